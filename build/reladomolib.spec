@@ -73,6 +73,12 @@ central,org.javassist,javassist,3.20.0-GA,jar,lib/serialtest,A9CBCDFB7E9F86FBC74
 #xa libs:
 central,org.apache.geronimo.specs,geronimo-jms_1.1_spec,1.1.1,jar,lib/xa,C872B46C601D8DC03633288B81269F9E42762CEA
 
+#benchmark libs:
+central,org.openjdk.jmh,jmh-core,1.37,jar,lib/benchmark,896F27E49105B35EA1964319C83D12082E7A79EF
+central,org.openjdk.jmh,jmh-generator-annprocess,1.37,jar,lib/benchmark,DA93888682DF163144EDF9B13D2B78E54166063A
+central,net.sf.jopt-simple,jopt-simple,5.0.4,jar,lib/benchmark,4FDAC2FBE92DFAD86AA6E9301736F6B4342A3F5C
+central,org.apache.commons,commons-math3,3.6.1,jar,lib/benchmark,E4BA98F1D4B3C80EC46392F25E094A6A2E58FCBF
+
 #graphql
 central,javax.servlet,javax.servlet-api,3.0.1,jar,lib/graphql,6BF0EBB7EFD993E222FC1112377B5E92A13B38DD
 central,com.graphql-java,graphql-java,13.0,jar,lib/graphql,F3D5C387CF09A13922F719FC984E7B6CBF2A3CCF
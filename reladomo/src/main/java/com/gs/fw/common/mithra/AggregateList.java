@@ -20,6 +20,7 @@ package com.gs.fw.common.mithra;
 import com.gs.fw.common.mithra.aggregate.AggregateOrderBy;
 import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.util.MithraAsyncQueryExecutor;
 import com.gs.fw.finder.OrderBy;
 import org.eclipse.collections.api.set.primitive.MutableIntSet;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
@@ -33,6 +34,8 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 
 
 public class AggregateList implements List<AggregateData>
@@ -289,6 +292,35 @@ public class AggregateList implements List<AggregateData>
         this.resolveOperation();
     }
 
+    /**
+     * Resolves this list on the I/O executor of its connection manager (see {@link MithraAsyncQueryExecutor}).
+     * If the list is already resolved or its portal is fully cached, the returned future is completed on the calling thread.
+     *
+     * @return a future completed with this list once it is resolved
+     */
+    public CompletableFuture<AggregateList> aggregateAsync()
+    {
+        Callable<AggregateList> resolve = new Callable<AggregateList>()
+        {
+            public AggregateList call()
+            {
+                resolveOperation();
+                return AggregateList.this;
+            }
+        };
+        MithraObjectPortal portal = this.getOperation().getResultObjectPortal();
+        if (this.isAggregateListOperationResolved() || this.isResolvableInMemory(portal))
+        {
+            return MithraAsyncQueryExecutor.completeNow(resolve);
+        }
+        return MithraAsyncQueryExecutor.getInstance().submit(portal, resolve);
+    }
+
+    private boolean isResolvableInMemory(MithraObjectPortal portal)
+    {
+        return !this.bypassCache && !portal.isCacheDisabled() && !portal.isPartiallyCached();
+    }
+
     public AggregateData getAggregateDataAt(int i)
     {
         return this.resolveOperation().get(i);
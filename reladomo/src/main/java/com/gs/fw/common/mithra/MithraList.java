@@ -18,10 +18,13 @@
 package com.gs.fw.common.mithra;
 
 import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
 import com.gs.fw.common.mithra.util.DoWhileProcedure;
 import com.gs.fw.common.mithra.util.Filter;
 import com.gs.fw.finder.DomainList;
 import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public interface MithraList<E> extends DomainList<E>, RandomAccess
 {
@@ -31,6 +34,20 @@ public interface MithraList<E> extends DomainList<E>, RandomAccess
      */
     public void forceResolve();
 
+    /**
+     * Resolves this list on the I/O executor of its connection manager (see {@link com.gs.fw.common.mithra.util.MithraAsyncQueryExecutor}).
+     * If the list is already resolved or can be resolved from the cache, the returned future is completed on the calling thread.
+     *
+     * @return a future completed with this list once it is resolved
+     */
+    public CompletableFuture<MithraList<E>> findAsync();
+
+    /**
+     * Same as {@link #count()}, but runs on the I/O executor of the list's connection manager, unless the count
+     * can be computed from the cache, in which case the returned future is completed on the calling thread.
+     */
+    public CompletableFuture<Integer> countAsync();
+
     /**
      * force this list to be re-read from the database. Works for both operation based and simple lists.
      * It has no effect on a list of detached objects.
@@ -84,6 +101,38 @@ public interface MithraList<E> extends DomainList<E>, RandomAccess
 
     public void forEachWithCursor(DoWhileProcedure closure, Filter filter);
 
+    /**
+     * Same as {@link #iteratorWithCursor(Filter, boolean)} with no filter, using the object cache.
+     */
+    public Cursor iteratorWithCursor();
+
+    /**
+     * Opens a pull based cursor over the list. Unlike {@link #iterator()}, the result is not materialized:
+     * rows are read and inflated one at a time from an open result set, the query cache is skipped
+     * and the list itself is not resolved, so memory use is bounded by the JDBC fetch size rather than the result size.
+     * Fully cached operations (and lists that are already resolved) are iterated in memory.
+     * <p/>
+     * The cursor holds a database connection until it is closed; use try-with-resources.
+     * The deepFetch operation is not supported.
+     *
+     * @param postLoadFilter filter applied to each object as it's read, may be null.
+     * @param bypassObjectCache if true, each row becomes a new object that is neither looked up in nor added to
+     *                          the cache. Useful for extracts of many rows that will not be read again. Such objects
+     *                          should be treated as read only.
+     */
+    public Cursor iteratorWithCursor(Filter postLoadFilter, boolean bypassObjectCache);
+
+    /**
+     * Same as {@link #streamWithCursor(Filter, boolean)} with no filter, using the object cache.
+     */
+    public Stream<E> streamWithCursor();
+
+    /**
+     * A sequential stream over {@link #iteratorWithCursor(Filter, boolean)}. The underlying cursor is closed
+     * when the stream is exhausted or closed; close it with try-with-resources when the stream may not be consumed fully.
+     */
+    public Stream<E> streamWithCursor(Filter postLoadFilter, boolean bypassObjectCache);
+
     /**
      * Clears the list of resolved references.</p>
      * This method will clear its internal list of results making all the referenced objects
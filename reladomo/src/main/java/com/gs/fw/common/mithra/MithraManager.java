@@ -33,6 +33,7 @@ import com.gs.fw.common.mithra.remote.RemoteMithraObjectConfig;
 import com.gs.fw.common.mithra.remote.ServerTransactionWorkerTask;
 import com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl;
 import com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl;
+import com.gs.fw.common.mithra.transaction.GroupCommitTransactionStyle;
 import com.gs.fw.common.mithra.transaction.LocalTm;
 import com.gs.fw.common.mithra.transaction.MithraNestedTransaction;
 import com.gs.fw.common.mithra.transaction.MithraRootTransaction;
@@ -286,6 +287,15 @@ public class MithraManager
         this.threadTransaction.set(result);
     }
 
+    /**
+     * Makes the transaction current on this thread, so a helper thread can execute part of its work. Pass null to
+     * clear it again.
+     */
+    public void zBindTransactionToThread(MithraTransaction tx)
+    {
+        this.setThreadTransaction(tx);
+    }
+
     public void removeTransaction(MithraTransaction tx)
     {
         if (this.threadTransaction.get() == tx)
@@ -543,6 +553,10 @@ public class MithraManager
                 throw new MithraBusinessException(commandName+" transaction failed", throwable);
             }
         }
+        if (style instanceof GroupCommitTransactionStyle)
+        {
+            return ((GroupCommitTransactionStyle) style).getGroupCommitter().execute(command);
+        }
         R result = null;
         int retryCount = style.getRetries() + 1;
         do
@@ -31,6 +31,7 @@ import com.gs.fw.common.mithra.querycache.CachedQuery;
 import com.gs.fw.common.mithra.querycache.QueryCache;
 import com.gs.fw.common.mithra.tempobject.MithraTuplePersister;
 import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.transaction.WriteBehindWriter;
 import com.gs.fw.common.mithra.util.Filter;
 import com.gs.fw.common.mithra.util.MithraPerformanceData;
 import com.gs.fw.common.mithra.util.PersisterId;
@@ -99,6 +100,15 @@ public interface MithraObjectPortal
 
     public Cursor findCursorFromServer(Operation op, Filter postLoadOperation, OrderBy orderby, int maxObjectsToRetrieve, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin);
 
+    /**
+     * @param bypassObjectCache if true, the returned objects are new instances that are not put in the cache.
+     *                          Ignored for remote portals.
+     */
+    default Cursor findCursorFromServer(Operation op, Filter postLoadOperation, OrderBy orderby, int maxObjectsToRetrieve, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin, boolean bypassObjectCache)
+    {
+        return this.findCursorFromServer(op, postLoadOperation, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin);
+    }
+
     public int count(Operation op);
 
     public List computeFunction(Operation op, OrderBy orderby, String sqlExpression,
@@ -176,6 +186,14 @@ public interface MithraObjectPortal
 
     public void setIndependent(boolean independent);
 
+    /**
+     * @return the writer that persists this class in the background, or null if changes are written when the
+     * transaction commits
+     */
+    public WriteBehindWriter getWriteBehindWriter();
+
+    public void setWriteBehindWriter(WriteBehindWriter writeBehindWriter);
+
     public MithraObjectDeserializer getMithraObjectDeserializer();
 
     public PersisterId getPersisterId();
@@ -149,6 +149,7 @@ public abstract class AbstractCache implements Cache
                             }
                         }
                         this.indices[bestReference] = initialized;
+                        this.readWriteLock.invalidateOptimisticReads();
                     }
                     finally
                     {
@@ -678,6 +678,12 @@ public abstract class AbstractDatedCache extends AbstractCache implements Refere
         throw new RuntimeException("not supported");
     }
 
+    @Override
+    public List getAll(Filter filter)
+    {
+        throw new RuntimeException("not supported");
+    }
+
     public IndexReference getIndexRef(Attribute attribute)
     {
         if (this.asOfAttributes.length == 1 && attribute.equals(this.asOfAttributes[0]))
@@ -19,6 +19,7 @@ package com.gs.fw.common.mithra.cache;
 
 import com.gs.fw.common.mithra.DatedTransactionalState;
 import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraDatedObject;
 import com.gs.fw.common.mithra.MithraDatedTransactionalObject;
 import com.gs.fw.common.mithra.MithraObject;
@@ -39,6 +40,8 @@ import com.gs.fw.common.mithra.util.DoUntilProcedure;
 import com.gs.fw.common.mithra.util.Filter;
 import com.gs.fw.common.mithra.util.InternalList;
 import com.gs.fw.common.mithra.util.ListFactory;
+import com.gs.fw.common.mithra.util.MithraCompositeList;
+import com.gs.fw.common.mithra.util.MithraCpuBoundThreadPool;
 import com.gs.fw.common.mithra.util.MithraFastList;
 import com.gs.fw.common.mithra.util.MithraTupleSet;
 import org.eclipse.collections.api.iterator.BooleanIterator;
@@ -76,6 +79,9 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 {
     private static Logger logger = LoggerFactory.getLogger(AbstractNonDatedCache.class);
 
+    public static final String PARALLEL_SCAN_THRESHOLD_PROPERTY = "mithra.cache.parallelScanThreshold";
+    private static final int PARALLEL_SCAN_THRESHOLD = Integer.getInteger(PARALLEL_SCAN_THRESHOLD_PROPERTY, 0);
+
     private final PrimaryKeyIndex primaryKeyIndex;
 
     private final InternalList monitoredAttributesList = new InternalList();
@@ -86,6 +92,8 @@ public abstract class AbstractNonDatedCache extends AbstractCache
     private final long timeToLive;
     private final long relationshipTimeToLive;
     protected UnderlyingObjectGetter underlyingObjectGetter;
+    private volatile boolean optimisticReads;
+    private int parallelScanThreshold = PARALLEL_SCAN_THRESHOLD;
 
     public AbstractNonDatedCache(Attribute[] pkAttributes, MithraObjectFactory factory, long timeToLive, long relationshipTimeToLive)
     {
@@ -115,6 +123,74 @@ public abstract class AbstractNonDatedCache extends AbstractCache
         if (relationshipTimeToLive > 0) CacheClock.register(relationshipTimeToLive);
     }
 
+    /**
+     * With optimistic reads, the single value lookups (getAsOne and get by index value) read the indices without
+     * taking the read lock and validate the lock's version afterwards, falling back to the read lock if a writer
+     * got in the way. Only safe for caches whose indices are changed exclusively under the write lock.
+     */
+    protected void setOptimisticReads(boolean optimisticReads)
+    {
+        this.optimisticReads = optimisticReads;
+    }
+
+    public boolean isOptimisticReads()
+    {
+        return optimisticReads;
+    }
+
+    // callers check optimisticReads first, so plain lookups don't allocate an IndexRead
+    private Object readWithOptimisticLock(IndexRead indexRead)
+    {
+        long stamp = this.readWriteLock.tryOptimisticRead();
+        if (stamp != 0)
+        {
+            try
+            {
+                Object result = indexRead.read();
+                if (this.readWriteLock.validate(stamp)) return result;
+            }
+            catch (RuntimeException e)
+            {
+                // inconsistent read, retry under the lock
+            }
+        }
+        this.readWriteLock.acquireReadLock();
+        try
+        {
+            return indexRead.read();
+        }
+        finally
+        {
+            this.readWriteLock.release();
+        }
+    }
+
+    // a lookup that may run without the read lock; see setOptimisticReads
+    private interface IndexRead
+    {
+        public Object read();
+    }
+
+    /**
+     * Sets the cache size from which getAll(Filter) splits the primary key index into segments and filters them on the
+     * MithraCpuBoundThreadPool. Zero (the default, unless mithra.cache.parallelScanThreshold is set) uses the pool's
+     * parallel threshold; a negative value keeps scans single threaded.
+     */
+    public void setParallelScanThreshold(int parallelScanThreshold)
+    {
+        this.parallelScanThreshold = parallelScanThreshold;
+    }
+
+    private boolean isParallelScan(int size)
+    {
+        int threshold = this.parallelScanThreshold;
+        if (threshold == 0)
+        {
+            return MithraCpuBoundThreadPool.isParallelizable(size);
+        }
+        return threshold > 0 && size >= threshold && !MithraManagerProvider.getMithraManager().isInTransaction();
+    }
+
     public long getRelationshipCacheTimeToLive()
     {
         return relationshipTimeToLive;
@@ -318,6 +394,38 @@ public abstract class AbstractNonDatedCache extends AbstractCache
         }
     }
 
+    public List getAll(final Filter filter)
+    {
+        this.readWriteLock.acquireReadLock();
+        try
+        {
+            if (this.primaryKeyIndex instanceof FullUniqueIndex && this.isParallelScan(this.primaryKeyIndex.size()))
+            {
+                // the read lock held by this thread keeps writers out while the pool threads scan their segments
+                ParallelFilterProcedure procedure = new ParallelFilterProcedure(filter);
+                ((FullUniqueIndex) this.primaryKeyIndex).forAllInParallel(procedure);
+                return new MithraCompositeList(procedure.getResult());
+            }
+            final MithraFastList result = new MithraFastList();
+            this.primaryKeyIndex.forAll(new DoUntilProcedure()
+            {
+                public boolean execute(Object o)
+                {
+                    if (filter.matches(o))
+                    {
+                        result.add(o);
+                    }
+                    return false;
+                }
+            });
+            return result;
+        }
+        finally
+        {
+            this.readWriteLock.release();
+        }
+    }
+
     protected IndexReference getIndexRefForSingleAttribute(Attribute attribute)
     {
         for (int i = 0; i < this.indices.length; i++)
@@ -1274,10 +1382,20 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public Object getAsOne(Object dataHolder, List extractors)
     {
+        if (this.optimisticReads)
+        {
+            return this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return primaryKeyIndex.get(dataHolder, extractors);
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
-            return this.primaryKeyIndex.get(dataHolder, extractors);
+            return primaryKeyIndex.get(dataHolder, extractors);
         }
         finally
         {
@@ -1287,10 +1405,20 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public Object getAsOne(Object dataHolder, Extractor[] extractors)
     {
+        if (this.optimisticReads)
+        {
+            return this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return primaryKeyIndex.get(dataHolder, extractors);
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
-            return this.primaryKeyIndex.get(dataHolder, extractors);
+            return primaryKeyIndex.get(dataHolder, extractors);
         }
         finally
         {
@@ -1300,10 +1428,20 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public Object getAsOne(Object srcObject, Object srcData, RelationshipHashStrategy relationshipHashStrategy, Timestamp asOfDate0, Timestamp asOfDate1)
     {
+        if (this.optimisticReads)
+        {
+            return this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return primaryKeyIndex.get(srcObject, srcData, relationshipHashStrategy, asOfDate0, asOfDate1);
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
-            return this.primaryKeyIndex.get(srcObject, srcData, relationshipHashStrategy, asOfDate0, asOfDate1);
+            return primaryKeyIndex.get(srcObject, srcData, relationshipHashStrategy, asOfDate0, asOfDate1);
         }
         finally
         {
@@ -1314,6 +1452,16 @@ public abstract class AbstractNonDatedCache extends AbstractCache
     public Object getAsOneByIndex(int indexRef, Object srcObject, Object srcData, RelationshipHashStrategy relationshipHashStrategy, Timestamp asOfDate0, Timestamp asOfDate1)
     {
         Index index = indices[indexRef - 1];
+        if (this.optimisticReads)
+        {
+            return this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return index.get(srcObject, srcData, relationshipHashStrategy, asOfDate0, asOfDate1);
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
@@ -1536,6 +1684,16 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public List get(int indexRef, Object indexValue)
     {
+        if (this.optimisticReads)
+        {
+            return (List) this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return wrapObjectInList(indices[indexRef - 1].get(indexValue));
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
@@ -1549,6 +1707,16 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public List getNulls(int indexRef)
     {
+        if (this.optimisticReads)
+        {
+            return (List) this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return wrapObjectInList(indices[indexRef - 1].getNulls());
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
@@ -1562,6 +1730,16 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public List get(int indexRef, int indexValue)
     {
+        if (this.optimisticReads)
+        {
+            return (List) this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return wrapObjectInList(indices[indexRef - 1].get(indexValue));
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
@@ -1575,6 +1753,16 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public List get(int indexRef, char indexValue)
     {
+        if (this.optimisticReads)
+        {
+            return (List) this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return wrapObjectInList(indices[indexRef - 1].get(indexValue));
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
@@ -1588,6 +1776,16 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public List get(int indexRef, long indexValue)
     {
+        if (this.optimisticReads)
+        {
+            return (List) this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return wrapObjectInList(indices[indexRef - 1].get(indexValue));
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
@@ -1601,6 +1799,16 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public List get(int indexRef, double indexValue)
     {
+        if (this.optimisticReads)
+        {
+            return (List) this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return wrapObjectInList(indices[indexRef - 1].get(indexValue));
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
@@ -1614,6 +1822,16 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public List get(int indexRef, float indexValue)
     {
+        if (this.optimisticReads)
+        {
+            return (List) this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return wrapObjectInList(indices[indexRef - 1].get(indexValue));
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
@@ -1627,6 +1845,16 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
     public List get(int indexRef, boolean indexValue)
     {
+        if (this.optimisticReads)
+        {
+            return (List) this.readWithOptimisticLock(new IndexRead()
+            {
+                public Object read()
+                {
+                    return wrapObjectInList(indices[indexRef - 1].get(indexValue));
+                }
+            });
+        }
         this.readWriteLock.acquireReadLock();
         try
         {
@@ -0,0 +1,519 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache;
+
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.extractor.RelationshipHashStrategy;
+import com.gs.fw.common.mithra.util.DoUntilProcedure;
+import com.gs.fw.common.mithra.util.DoUntilProcedure3;
+import com.gs.fw.common.mithra.util.EstimateDistribution;
+import com.gs.fw.common.mithra.util.Filter2;
+import org.slf4j.Logger;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * The probing and bucket handling shared by the NonUniqueIdentityIndex implementations for a single primitive
+ * attribute. The values live in an open addressing table with linear probing; subclasses keep the keys in a primitive
+ * array next to it and do the key comparisons, so lookups never box a key or go through the extractor's valueEquals.
+ * A slot holds a single object or a SetLikeIdentityList; objects with a null key are kept in a separate slot.
+ */
+public abstract class AbstractPrimitiveNonUniqueIdentityIndex implements IterableNonUniqueIndex, UnderlyingObjectGetter
+{
+    protected static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final Extractor[] indexExtractors;
+
+    protected Object[] values; // null marks an empty slot
+    private Object nulls;
+
+    private int occupied;
+    private int size;
+    private int maxOccupied;
+    private SetLikeIdentityList max;
+
+    protected AbstractPrimitiveNonUniqueIdentityIndex(Extractor[] indexExtractors)
+    {
+        this.indexExtractors = indexExtractors;
+    }
+
+    protected static int tableSizeFor(int expectedKeys)
+    {
+        int capacity = DEFAULT_INITIAL_CAPACITY;
+        while (capacity < MAXIMUM_CAPACITY && (capacity >> 1) + (capacity >> 2) < expectedKeys)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    protected void allocate(int capacity)
+    {
+        this.allocateKeys(capacity);
+        this.values = new Object[capacity];
+        this.maxOccupied = (capacity >> 1) + (capacity >> 2); // load factor of 0.75
+    }
+
+    protected abstract void allocateKeys(int capacity);
+
+    /**
+     * @return the slot holding the key of businessObject, or the complement of the empty slot the key would go into
+     */
+    protected abstract int findSlotFor(Object businessObject);
+
+    protected abstract Object getNonNullEntry(Object valueHolder, Extractor keyExtractor);
+
+    protected abstract void setKey(int slot, Object businessObject);
+
+    /**
+     * @return the first slot of the probe sequence of the key held in slot, in a table of size mask + 1
+     */
+    protected abstract int homeSlot(int slot, int mask);
+
+    protected abstract void moveKey(int from, int to);
+
+    protected abstract void clearKey(int slot);
+
+    /**
+     * replaces the keys with an array of newCapacity, where the key of every occupied old slot i goes to newSlots[i]
+     */
+    protected abstract void rehashKeys(Object[] oldValues, int[] newSlots, int newCapacity);
+
+    @Override
+    public boolean isInitialized()
+    {
+        return true;
+    }
+
+    @Override
+    public Index getInitialized(IterableIndex iterableIndex)
+    {
+        return this;
+    }
+
+    public Extractor[] getExtractors()
+    {
+        return this.indexExtractors;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    private int distinctKeys()
+    {
+        return nulls == null ? occupied : occupied + 1;
+    }
+
+    public int getAverageReturnSize()
+    {
+        int distinct = distinctKeys();
+        if (distinct == 0) return 0;
+        int result = size / distinct;
+        if (result * distinct < size)
+        {
+            result++;
+        }
+        return result;
+    }
+
+    @Override
+    public long getMaxReturnSize(int multiplier)
+    {
+        if (multiplier >= distinctKeys())
+        {
+            return size;
+        }
+        int avgSize = getAverageReturnSize();
+        return EstimateDistribution.estimateMaxReturnSize(multiplier, max != null ? max.size() : avgSize << 2, size, avgSize);
+    }
+
+    public boolean isUnique()
+    {
+        return false;
+    }
+
+    protected static Object getCompactList(Object cur)
+    {
+        if (cur instanceof SetLikeIdentityList)
+        {
+            return ((SetLikeIdentityList) cur).getAll();
+        }
+        return cur;
+    }
+
+    private Object getEntry(Object valueHolder, Extractor keyExtractor)
+    {
+        if (keyExtractor.isAttributeNull(valueHolder))
+        {
+            return this.nulls;
+        }
+        return getNonNullEntry(valueHolder, keyExtractor);
+    }
+
+    public Object get(byte[] indexValue)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    public Object get(double indexValue)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    public Object get(boolean indexValue)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    public Object get(float indexValue)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    public Object get(char indexValue)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    public Object getNulls()
+    {
+        return getCompactList(this.nulls);
+    }
+
+    public Object get(Object valueHolder, List extractors)
+    {
+        return getCompactList(getEntry(valueHolder, (Extractor) extractors.get(0)));
+    }
+
+    public Object get(Object valueHolder, Extractor[] extractors)
+    {
+        return getCompactList(getEntry(valueHolder, extractors[0]));
+    }
+
+    public Object get(Object srcObject, Object srcData, RelationshipHashStrategy relationshipHashStrategy, Timestamp asOfDates0, Timestamp asOfDate1)
+    {
+        throw new RuntimeException("not implemented. should not get here");
+    }
+
+    private static final DoUntilProcedure3<Object, Filter2, Object> FILTER_ADAPTOR = new DoUntilProcedure3<Object, Filter2, Object>()
+    {
+        public boolean execute(Object object, Filter2 filter, Object keyHolder)
+        {
+            return filter.matches(object, keyHolder);
+        }
+    };
+
+    public boolean contains(Object keyHolder, Extractor[] extractors, Filter2 filter)
+    {
+        Object cur = getEntry(keyHolder, extractors[0]);
+        if (cur == null)
+        {
+            return false;
+        }
+        if (cur instanceof SetLikeIdentityList)
+        {
+            SetLikeIdentityList list = (SetLikeIdentityList) cur;
+            if (filter == null && list.size() > 0)
+            {
+                return true;
+            }
+            return list.forAllWith(FILTER_ADAPTOR, filter, keyHolder);
+        }
+        return filter == null || filter.matches(cur, keyHolder);
+    }
+
+    public void findAndExecute(Object valueHolder, Extractor[] extractors, DoUntilProcedure procedure)
+    {
+        Object cur = getEntry(valueHolder, extractors[0]);
+        if (cur instanceof SetLikeIdentityList)
+        {
+            ((SetLikeIdentityList) cur).forAll(procedure);
+        }
+        else if (cur != null)
+        {
+            procedure.execute(cur);
+        }
+    }
+
+    private Object addToEntry(Object cur, Object businessObject)
+    {
+        if (cur instanceof SetLikeIdentityList)
+        {
+            SetLikeIdentityList set = (SetLikeIdentityList) cur;
+            size -= set.size();
+            set = set.addAndGrow(businessObject);
+            size += set.size();
+            if (max == null || max.size() < set.size())
+            {
+                max = set;
+            }
+            return set;
+        }
+        if (cur == businessObject)
+        {
+            return cur;
+        }
+        size++;
+        return new DuoSetLikeIdentityList(cur, businessObject);
+    }
+
+    private Object removeFromEntry(Object cur, Object businessObject)
+    {
+        if (cur instanceof SetLikeIdentityList)
+        {
+            SetLikeIdentityList set = (SetLikeIdentityList) cur;
+            int oldSize = set.size();
+            Object result = set.removeAndShrink(businessObject);
+            if (result != set || set.size() != oldSize)
+            {
+                size--;
+                if (max == set && oldSize - 1 <= this.getAverageReturnSize())
+                {
+                    max = null;
+                }
+            }
+            return result;
+        }
+        if (cur == businessObject)
+        {
+            size--;
+            return null;
+        }
+        return cur;
+    }
+
+    public Object put(Object businessObject)
+    {
+        if (indexExtractors[0].isAttributeNull(businessObject))
+        {
+            if (this.nulls == null)
+            {
+                this.nulls = businessObject;
+                size++;
+            }
+            else
+            {
+                this.nulls = addToEntry(this.nulls, businessObject);
+            }
+            return null;
+        }
+        int slot = findSlotFor(businessObject);
+        if (slot >= 0)
+        {
+            values[slot] = addToEntry(values[slot], businessObject);
+            return null;
+        }
+        if (occupied >= maxOccupied)
+        {
+            rehash(values.length << 1);
+            slot = findSlotFor(businessObject);
+        }
+        slot = ~slot;
+        setKey(slot, businessObject);
+        values[slot] = businessObject;
+        size++;
+        occupied++;
+        return null;
+    }
+
+    public Object putUsingUnderlying(Object businessObject, Object underlying)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    public Object remove(Object businessObject)
+    {
+        if (indexExtractors[0].isAttributeNull(businessObject))
+        {
+            if (this.nulls != null)
+            {
+                this.nulls = removeFromEntry(this.nulls, businessObject);
+            }
+            return null;
+        }
+        int slot = findSlotFor(businessObject);
+        if (slot >= 0)
+        {
+            Object cur = values[slot];
+            Object remaining = removeFromEntry(cur, businessObject);
+            if (remaining == null)
+            {
+                removeSlot(slot);
+                return cur;
+            }
+            values[slot] = remaining;
+        }
+        return null;
+    }
+
+    /**
+     * backward shift deletion: moves later entries of the same probe sequence into the hole, so lookups can keep
+     * stopping at the first empty slot.
+     */
+    private void removeSlot(int slot)
+    {
+        int mask = values.length - 1;
+        int hole = slot;
+        int next = slot;
+        while (true)
+        {
+            next = (next + 1) & mask;
+            Object cur = values[next];
+            if (cur == null)
+            {
+                break;
+            }
+            int home = homeSlot(next, mask);
+            if (((next - home) & mask) >= ((next - hole) & mask))
+            {
+                moveKey(next, hole);
+                values[hole] = cur;
+                hole = next;
+            }
+        }
+        values[hole] = null;
+        clearKey(hole);
+        occupied--;
+    }
+
+    public Object removeUsingUnderlying(Object underlyingObject)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    private void rehash(int newCapacity)
+    {
+        if (newCapacity > MAXIMUM_CAPACITY)
+        {
+            throw new RuntimeException("max capacity of map exceeded");
+        }
+        Object[] oldValues = this.values;
+        Object[] newValues = new Object[newCapacity];
+        int[] newSlots = new int[oldValues.length];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                int slot = homeSlot(i, mask);
+                while (newValues[slot] != null)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                newValues[slot] = oldValues[i];
+                newSlots[i] = slot;
+            }
+        }
+        this.rehashKeys(oldValues, newSlots, newCapacity);
+        this.values = newValues;
+        this.maxOccupied = (newCapacity >> 1) + (newCapacity >> 2);
+    }
+
+    /**
+     * @param procedure is executed on the list of objects with the same key or single object
+     */
+    public boolean doUntil(DoUntilProcedure procedure)
+    {
+        if (this.nulls != null && procedure.execute(getCompactList(this.nulls)))
+        {
+            return true;
+        }
+        Object[] values = this.values;
+        for (int i = values.length; i-- > 0; )
+        {
+            Object cur = values[i];
+            if (cur != null && procedure.execute(getCompactList(cur)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear()
+    {
+        occupied = 0;
+        size = 0;
+        max = null;
+        nulls = null;
+        allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public Object getUnderlyingObject(Object o)
+    {
+        return o;
+    }
+
+    public void setUnderlyingObjectGetter(UnderlyingObjectGetter underlyingObjectGetter)
+    {
+        throw new RuntimeException("not implemeted");
+    }
+
+    public boolean evictCollectedReferences()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean needToEvictCollectedReferences()
+    {
+        return false;
+    }
+
+    @Override
+    public void destroy()
+    {
+        //nothing to do
+    }
+
+    @Override
+    public void reportSpaceUsage(Logger logger, String className)
+    {
+
+    }
+
+    @Override
+    public void ensureExtraCapacity(int extraSize)
+    {
+        int capacity = tableSizeFor(occupied + extraSize);
+        if (capacity > values.length)
+        {
+            rehash(capacity);
+        }
+    }
+
+    @Override
+    public long getOffHeapAllocatedIndexSize()
+    {
+        return 0;
+    }
+
+    @Override
+    public long getOffHeapUsedIndexSize()
+    {
+        return 0;
+    }
+}
@@ -66,6 +66,12 @@ public interface Cache
 
     void forAll(DoUntilProcedure procedure);
 
+    /**
+     * @return all cached objects matching the filter. Large caches are scanned in parallel; the filter must be
+     * safe to call from several threads.
+     */
+    List getAll(Filter filter);
+
     IndexReference getIndexRef(Attribute attribute);
 
     IndexReference getBestIndexReference(List attributes);
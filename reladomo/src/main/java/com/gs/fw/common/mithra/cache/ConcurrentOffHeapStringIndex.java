@@ -17,6 +17,7 @@
 package com.gs.fw.common.mithra.cache;
 
 import com.gs.fw.common.mithra.cache.offheap.MasterRetrieveStringResult;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapStringDictionary;
 import com.gs.fw.common.mithra.util.MithraUnsafe;
 import sun.misc.Unsafe;
 
@@ -59,6 +60,8 @@ public class ConcurrentOffHeapStringIndex implements StringIndex
     private int[] partitionedSize;
 
     private StringToIntMap stringToIntMap = new StringToIntMap();
+    // when set, the characters of strings only referenced from off-heap data are kept off-heap, see OffHeapStringDictionary
+    private final OffHeapStringDictionary offHeapDictionary;
     
     private volatile int expunger; // accessed via expungerUpdater
     private boolean needsCleaning;
@@ -114,6 +117,12 @@ public class ConcurrentOffHeapStringIndex implements StringIndex
 
     public ConcurrentOffHeapStringIndex(int initialCapacity)
     {
+        this(initialCapacity, null);
+    }
+
+    public ConcurrentOffHeapStringIndex(int initialCapacity, OffHeapStringDictionary offHeapDictionary)
+    {
+        this.offHeapDictionary = offHeapDictionary;
         if (initialCapacity < 0)
             throw new IllegalArgumentException("Illegal Initial Capacity: " +
                     initialCapacity);
@@ -177,6 +186,15 @@ public class ConcurrentOffHeapStringIndex implements StringIndex
         }
     }
 
+    private int storeString(String data)
+    {
+        if (this.offHeapDictionary != null)
+        {
+            return this.offHeapDictionary.store(data);
+        }
+        return this.stringToIntMap.store(data);
+    }
+
     /*
      * Return index for hash code h.
      */
@@ -288,6 +306,21 @@ outer:
                 Entry e = (Entry) o;
                 while (e != null)
                 {
+                    if (e instanceof EncodedEntry)
+                    {
+                        if (e.getHash() == hash && this.offHeapDictionary.matches(e.getOffHeapAddress(), data))
+                        {
+                            // the caller keeps the instance we return, so the entry has to hold on to it from now on
+                            Entry hardEntry = new HardEntry(e.get(), null, e.getOffHeapAddress());
+                            if (!hardenEntry(currentArray, index, (Entry) o, e, hardEntry))
+                            {
+                                continue outer;
+                            }
+                            return hardEntry.get();
+                        }
+                        e = e.getNext();
+                        continue;
+                    }
                     String candidate = e.get();
                     if (candidate == null)
                     {
@@ -301,7 +334,7 @@ outer:
                             if (toPutEntry == null)
                             {
                                 data =  candidate;
-                                toPutEntry = new HardEntry(data, null, stringToIntMap.store(data));
+                                toPutEntry = new HardEntry(data, null, this.storeString(data));
                             }
                             if (!hardenEntry(currentArray, index, (Entry) o, e, toPutEntry))
                             {
@@ -322,7 +355,7 @@ outer:
                 data =  cleanString(data);
                 if (hard)
                 {
-                    toPutEntry = new HardEntry(data, null, stringToIntMap.store(data));
+                    toPutEntry = new HardEntry(data, null, this.storeString(data));
                 }
                 else
                 {
@@ -357,6 +390,15 @@ outer:
                 Entry e = (Entry) o;
                 while (e != null)
                 {
+                    if (e instanceof EncodedEntry)
+                    {
+                        if (e.getHash() == hash && this.offHeapDictionary.matches(e.getOffHeapAddress(), data))
+                        {
+                            return e.getOffHeapAddress();
+                        }
+                        e = e.getNext();
+                        continue;
+                    }
                     String candidate = e.get();
                     if (candidate == null)
                     {
@@ -367,10 +409,11 @@ outer:
                     {
                         if (e instanceof WeakEntry)
                         {
-                            if (toPutEntry == null)
+                            // the weak entry's string is shared on the heap, so it stays hard rather than encoded
+                            if (!(toPutEntry instanceof HardEntry))
                             {
                                 data =  candidate;
-                                toPutEntry = new HardEntry(data, null, stringToIntMap.store(data));
+                                toPutEntry = new HardEntry(data, null, this.storeString(data));
                             }
                             if (!hardenEntry(currentArray, index, (Entry) o, e, toPutEntry))
                             {
@@ -388,8 +431,15 @@ outer:
             }
             if (toPutEntry == null)
             {
-                data =  cleanString(data);
-                toPutEntry = new HardEntry(data, null, stringToIntMap.store(data));
+                if (this.offHeapDictionary != null)
+                {
+                    toPutEntry = new EncodedEntry(hash, this.offHeapDictionary.store(data), this.offHeapDictionary);
+                }
+                else
+                {
+                    data =  cleanString(data);
+                    toPutEntry = new HardEntry(data, null, this.storeString(data));
+                }
             }
             toPutEntry.setNext((Entry) o);
 
@@ -431,7 +481,7 @@ outer:
                             if (toPutEntry == null)
                             {
                                 data =  candidate;
-                                toPutEntry = new HardEntry(data, null, stringToIntMap.store(data));
+                                toPutEntry = new HardEntry(data, null, this.storeString(data));
                             }
                             if (!hardenEntry(currentArray, index, (Entry) o, e, toPutEntry))
                             {
@@ -452,7 +502,7 @@ outer:
                 data =  cleanString(data);
                 if (hard)
                 {
-                    toPutEntry = new HardEntry(data, null, stringToIntMap.store(data));
+                    toPutEntry = new HardEntry(data, null, this.storeString(data));
                 }
                 else
                 {
@@ -507,7 +557,7 @@ outer:
                 int removed = 0;
                 Entry e = (Entry) o;
 
-                while(e != null && e.get() == null)
+                while(e != null && e.getReferent() == null)
                 {
                     removed++;
                     e = e.getNext();
@@ -524,7 +574,7 @@ outer:
                 Entry cur = null;
                 while(e != null)
                 {
-                    Object leftOver = e.get();
+                    Object leftOver = e.getReferent();
                     if (leftOver != null)
                     {
                         if (replacement == null)
@@ -567,7 +617,7 @@ outer:
         Entry cur = null;
         while(e != null)
         {
-            Object leftOver = e.get();
+            Object leftOver = e.getReferent();
             if (leftOver != null)
             {
                 Entry newEntry = e == toRemove ? toPut : e.cloneWithoutNext(queue);
@@ -770,7 +820,7 @@ outer:
 
     private void unconditionalCopy(Object[] dest, Entry toCopyEntry)
     {
-        Object toCopy = toCopyEntry.get(); // we keep this local variable to ensure it doesn't get collected while transferring.
+        Object toCopy = toCopyEntry.getReferent(); // we keep this local variable to ensure it doesn't get collected while transferring.
         if (toCopy == null)
         {
             addToSize(-1);
@@ -834,11 +884,21 @@ outer:
                 Entry e = (Entry) o;
                 while (e != null)
                 {
-                    String candidate = e.get();
-                    if (candidate != null && e.getHash() == hash &&
-                            candidate.equals(data))
+                    if (e instanceof EncodedEntry)
                     {
-                        return e.getOffHeapAddress();
+                        if (e.getHash() == hash && this.offHeapDictionary.matches(e.getOffHeapAddress(), data))
+                        {
+                            return e.getOffHeapAddress();
+                        }
+                    }
+                    else
+                    {
+                        String candidate = e.get();
+                        if (candidate != null && e.getHash() == hash &&
+                                candidate.equals(data))
+                        {
+                            return e.getOffHeapAddress();
+                        }
                     }
                     e = e.getNext();
                 }
@@ -854,6 +914,8 @@ outer:
         public void setNext(Entry next);
         public Entry cloneWithoutNext(ReferenceQueue queue);
         public String get();
+        // the object that keeps the entry alive; null once a weak entry's string has been collected
+        public Object getReferent();
         public int getOffHeapAddress();
 
     }
@@ -891,6 +953,11 @@ outer:
             return new WeakEntry(this.get(), queue, this.hash, null);
         }
 
+        public Object getReferent()
+        {
+            return this.get();
+        }
+
         @Override
         public int getOffHeapAddress()
         {
@@ -916,6 +983,11 @@ outer:
             return value;
         }
 
+        public Object getReferent()
+        {
+            return value;
+        }
+
         public int getHash()
         {
             return this.value.hashCode();
@@ -942,6 +1014,57 @@ outer:
         }
     }
 
+    // a string that's only referenced from off-heap data; its characters live in the off-heap dictionary
+    private static class EncodedEntry implements Entry
+    {
+        private final int hash;
+        private final int offHeapAddress;
+        private final OffHeapStringDictionary dictionary;
+        private Entry next;
+
+        public EncodedEntry(int hash, int offHeapAddress, OffHeapStringDictionary dictionary)
+        {
+            this.hash = hash;
+            this.offHeapAddress = offHeapAddress;
+            this.dictionary = dictionary;
+        }
+
+        public String get()
+        {
+            return this.dictionary.getString(this.offHeapAddress);
+        }
+
+        public Object getReferent()
+        {
+            return this;
+        }
+
+        public int getHash()
+        {
+            return this.hash;
+        }
+
+        public Entry getNext()
+        {
+            return next;
+        }
+
+        public void setNext(Entry next)
+        {
+            this.next = next;
+        }
+
+        public int getOffHeapAddress()
+        {
+            return offHeapAddress;
+        }
+
+        public Entry cloneWithoutNext(ReferenceQueue queue)
+        {
+            return new EncodedEntry(this.hash, this.offHeapAddress, this.dictionary);
+        }
+    }
+
     private static final class ResizeContainer
     {
         private static final int QUEUE_INCREMENT = Math.min(1 << 10, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 4);
@@ -1030,6 +1153,10 @@ outer:
     @Override
     public String getStringFromOffHeapAddress(int address)
     {
+        if (this.offHeapDictionary != null)
+        {
+            return this.offHeapDictionary.getString(address);
+        }
         return stringToIntMap.list[address];
     }
 
@@ -1041,13 +1168,17 @@ outer:
         MasterRetrieveStringResult result = new MasterRetrieveStringResult(size);
         for(int i=0;i<size;i++)
         {
-            result.addString(i, startAddress + i, this.stringToIntMap.list[startAddress + i]);
+            result.addString(i, startAddress + i, this.getStringFromOffHeapAddress(startAddress + i));
         }
         return result;
     }
 
     private int getMaxOffHeapStringAddress()
     {
+        if (this.offHeapDictionary != null)
+        {
+            return this.offHeapDictionary.getMaxStringAddress();
+        }
         return stringToIntMap.getMaxStringAddress();
     }
 
@@ -19,6 +19,8 @@ package com.gs.fw.common.mithra.cache;
 import com.gs.fw.common.mithra.MithraObjectFactory;
 import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.IntegerAttribute;
+import com.gs.fw.common.mithra.attribute.LongAttribute;
 import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.notification.listener.FullCacheMithraNotificationListener;
 import com.gs.fw.common.mithra.notification.listener.MithraNotificationListener;
@@ -27,26 +29,49 @@ import com.gs.fw.common.mithra.notification.listener.MithraNotificationListener;
 
 public class FullNonDatedCache extends AbstractNonDatedCache
 {
+    public static final String OPTIMISTIC_READS_PROPERTY = "mithra.cache.optimisticReads";
+    private static final boolean OPTIMISTIC_READS = "true".equals(System.getProperty(OPTIMISTIC_READS_PROPERTY));
+
     private FullCacheMithraNotificationListener notificationListener;
 
     public FullNonDatedCache(Attribute[] pkAttributes, MithraObjectFactory factory)
     {
         super(pkAttributes, factory, 0, 0);
+        this.setOptimisticReads(OPTIMISTIC_READS);
     }
 
     public FullNonDatedCache(Attribute[] pkAttributes, MithraObjectFactory factory, Attribute[] immutableAttributes)
     {
         super(pkAttributes, factory, immutableAttributes, 0, 0);
+        this.setOptimisticReads(OPTIMISTIC_READS);
     }
 
     public FullNonDatedCache(Attribute[] pkAttributes, MithraObjectFactory factory, Attribute[] immutableAttributes, UnderlyingObjectGetter underlyingObjectGetter)
     {
         super(pkAttributes, factory, immutableAttributes, 0, 0, underlyingObjectGetter);
+        this.setOptimisticReads(OPTIMISTIC_READS);
+    }
+
+    /**
+     * Overrides the mithra.cache.optimisticReads system property for this cache.
+     */
+    @Override
+    public void setOptimisticReads(boolean optimisticReads)
+    {
+        super.setOptimisticReads(optimisticReads);
     }
 
     @Override
     protected Index createIndex(String indexName, Extractor[] extractors)
     {
+        if (extractors.length == 1 && extractors[0] instanceof IntegerAttribute)
+        {
+            return new LazyIndex(new IntNonUniqueIdentityIndex(extractors));
+        }
+        if (extractors.length == 1 && extractors[0] instanceof LongAttribute)
+        {
+            return new LazyIndex(new LongNonUniqueIdentityIndex(extractors));
+        }
         return new LazyIndex(new NonUniqueIdentityIndex(extractors));
     }
 
@@ -0,0 +1,152 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache;
+
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.extractor.IntExtractor;
+
+/**
+ * A NonUniqueIdentityIndex for a single int attribute (typically a to-many foreign key). The keys are held in an
+ * int array next to the values (open addressing, linear probing), so lookups compare primitive keys directly instead
+ * of going through the extractor's valueHashCode and valueEquals for every candidate in a bucket.
+ * Objects with a null key are kept in a separate slot.
+ */
+public class IntNonUniqueIdentityIndex extends AbstractPrimitiveNonUniqueIdentityIndex
+{
+    private final IntExtractor extractor;
+
+    private int[] keys;
+
+    public IntNonUniqueIdentityIndex(Extractor[] indexExtractors)
+    {
+        this(indexExtractors, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public IntNonUniqueIdentityIndex(Extractor[] indexExtractors, int initialCapacity)
+    {
+        super(indexExtractors);
+        if (indexExtractors.length != 1 || !(indexExtractors[0] instanceof IntExtractor))
+        {
+            throw new IllegalArgumentException("only a single int attribute can be used for "+this.getClass().getSimpleName());
+        }
+        this.extractor = (IntExtractor) indexExtractors[0];
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    private static int spread(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return the slot holding key, or the complement of the empty slot that ends its probe sequence. The probe is
+     * bounded, so a reader racing a writer can't loop forever; it then returns Integer.MIN_VALUE.
+     */
+    private static int findSlot(int[] keys, Object[] values, int key)
+    {
+        int mask = values.length - 1;
+        int slot = spread(key) & mask;
+        for (int probes = 0; probes < values.length; probes++)
+        {
+            if (values[slot] == null) return ~slot;
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    protected void allocateKeys(int capacity)
+    {
+        this.keys = new int[capacity];
+    }
+
+    @Override
+    protected int findSlotFor(Object businessObject)
+    {
+        return findSlot(this.keys, this.values, extractor.intValueOf(businessObject));
+    }
+
+    private Object getEntry(int key)
+    {
+        Object[] values = this.values;
+        int slot = findSlot(this.keys, values, key);
+        return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    protected Object getNonNullEntry(Object valueHolder, Extractor keyExtractor)
+    {
+        return getEntry(((IntExtractor) keyExtractor).intValueOf(valueHolder));
+    }
+
+    public Object get(int key)
+    {
+        return getCompactList(getEntry(key));
+    }
+
+    public Object get(long key)
+    {
+        int intKey = (int) key;
+        return intKey == key ? get(intKey) : null;
+    }
+
+    public Object get(Object key)
+    {
+        return get(((Number) key).intValue());
+    }
+
+    @Override
+    protected void setKey(int slot, Object businessObject)
+    {
+        keys[slot] = extractor.intValueOf(businessObject);
+    }
+
+    @Override
+    protected int homeSlot(int slot, int mask)
+    {
+        return spread(keys[slot]) & mask;
+    }
+
+    @Override
+    protected void moveKey(int from, int to)
+    {
+        keys[to] = keys[from];
+    }
+
+    @Override
+    protected void clearKey(int slot)
+    {
+        keys[slot] = 0;
+    }
+
+    @Override
+    protected void rehashKeys(Object[] oldValues, int[] newSlots, int newCapacity)
+    {
+        int[] oldKeys = this.keys;
+        int[] newKeys = new int[newCapacity];
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                newKeys[newSlots[i]] = oldKeys[i];
+            }
+        }
+        this.keys = newKeys;
+    }
+}
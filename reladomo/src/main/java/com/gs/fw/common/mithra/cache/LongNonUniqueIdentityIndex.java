@@ -0,0 +1,152 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache;
+
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.extractor.LongExtractor;
+import com.gs.fw.common.mithra.util.HashUtil;
+
+/**
+ * A NonUniqueIdentityIndex for a single long attribute (typically a to-many foreign key). The keys are held in a
+ * long array next to the values (open addressing, linear probing), so lookups compare primitive keys directly instead
+ * of going through the extractor's valueHashCode and valueEquals for every candidate in a bucket.
+ * Objects with a null key are kept in a separate slot.
+ */
+public class LongNonUniqueIdentityIndex extends AbstractPrimitiveNonUniqueIdentityIndex
+{
+    private final LongExtractor extractor;
+
+    private long[] keys;
+
+    public LongNonUniqueIdentityIndex(Extractor[] indexExtractors)
+    {
+        this(indexExtractors, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public LongNonUniqueIdentityIndex(Extractor[] indexExtractors, int initialCapacity)
+    {
+        super(indexExtractors);
+        if (indexExtractors.length != 1 || !(indexExtractors[0] instanceof LongExtractor))
+        {
+            throw new IllegalArgumentException("only a single long attribute can be used for "+this.getClass().getSimpleName());
+        }
+        this.extractor = (LongExtractor) indexExtractors[0];
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    private static int spread(long key)
+    {
+        int h = HashUtil.hash(key) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return the slot holding key, or the complement of the empty slot that ends its probe sequence. The probe is
+     * bounded, so a reader racing a writer can't loop forever; it then returns Integer.MIN_VALUE.
+     */
+    private static int findSlot(long[] keys, Object[] values, long key)
+    {
+        int mask = values.length - 1;
+        int slot = spread(key) & mask;
+        for (int probes = 0; probes < values.length; probes++)
+        {
+            if (values[slot] == null) return ~slot;
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    protected void allocateKeys(int capacity)
+    {
+        this.keys = new long[capacity];
+    }
+
+    @Override
+    protected int findSlotFor(Object businessObject)
+    {
+        return findSlot(this.keys, this.values, extractor.longValueOf(businessObject));
+    }
+
+    private Object getEntry(long key)
+    {
+        Object[] values = this.values;
+        int slot = findSlot(this.keys, values, key);
+        return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    protected Object getNonNullEntry(Object valueHolder, Extractor keyExtractor)
+    {
+        return getEntry(((LongExtractor) keyExtractor).longValueOf(valueHolder));
+    }
+
+    public Object get(long key)
+    {
+        return getCompactList(getEntry(key));
+    }
+
+    public Object get(int key)
+    {
+        return get((long) key);
+    }
+
+    public Object get(Object key)
+    {
+        return get(((Number) key).longValue());
+    }
+
+    @Override
+    protected void setKey(int slot, Object businessObject)
+    {
+        keys[slot] = extractor.longValueOf(businessObject);
+    }
+
+    @Override
+    protected int homeSlot(int slot, int mask)
+    {
+        return spread(keys[slot]) & mask;
+    }
+
+    @Override
+    protected void moveKey(int from, int to)
+    {
+        keys[to] = keys[from];
+    }
+
+    @Override
+    protected void clearKey(int slot)
+    {
+        keys[slot] = 0;
+    }
+
+    @Override
+    protected void rehashKeys(Object[] oldValues, int[] newSlots, int newCapacity)
+    {
+        long[] oldKeys = this.keys;
+        long[] newKeys = new long[newCapacity];
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                newKeys[newSlots[i]] = oldKeys[i];
+            }
+        }
+        this.keys = newKeys;
+    }
+}
@@ -19,32 +19,104 @@ package com.gs.fw.common.mithra.cache;
 
 import com.gs.fw.common.mithra.extractor.IdentityExtractor;
 import com.gs.fw.common.mithra.util.MithraFastList;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
-
+/**
+ * Calls {@link ReferenceListener#evictCollectedReferences()} on the registered listeners (string and timestamp pools,
+ * partial caches, query caches, off-heap memory) so they can let go of what the garbage collector has cleared.
+ * <p>
+ * A sweep runs when a garbage collection has cleared weak references (detected with a sentinel reference on a
+ * reference queue), when {@link #runNow()} is called, and at least once every
+ * <code>mithra.referenceThread.maxIntervalMillis</code> (60 seconds). The check happens every
+ * <code>mithra.referenceThread.tickMillis</code> (1 second).
+ * <p>
+ * Listeners are split into stripes, one per worker (<code>mithra.referenceThread.workers</code>, by default a quarter
+ * of the processors, between 1 and 4). The stripes are swept in parallel, this thread doing one of them. A stripe
+ * stops once it has used up its time budget (<code>mithra.referenceThread.timeBudgetMillis</code>, 50 ms) and picks
+ * up where it left off on the next tick, so one sweep doesn't hold a core for long. A listener is always called to
+ * completion and never by two threads at once.
+ */
 public class MithraReferenceThread extends Thread
 {
     private static final Logger logger = LoggerFactory.getLogger(MithraReferenceThread.class);
 
     private static final MithraReferenceThread instance = new MithraReferenceThread();
 
-    private final MithraFastList<WeakReferenceListener> listeners = new MithraFastList<WeakReferenceListener>();
+    private final Stripe[] stripes;
     private final ConcurrentLinkedQueue<WeakReferenceListener> queue = new ConcurrentLinkedQueue<WeakReferenceListener>();
     private final ConcurrentLinkedQueue<ReferenceListener> removeQueue = new ConcurrentLinkedQueue<ReferenceListener>();
 
+    private final ExecutorService workers;
+    private final long tickMillis;
+    private final long timeBudgetNanos;
+    private final long maxIntervalMillis;
+
+    // the sentinel is cleared, and queued, by the first garbage collection after it's created; the field keeps the
+    // reference object itself reachable, or it would never be queued
+    private final ReferenceQueue<Object> collectionQueue = new ReferenceQueue<Object>();
+    private WeakReference<Object> collectionSentinel;
+
+    private boolean sweepRequested;
+    private volatile boolean shutdown;
+
+    private final LongAdder sweeps = new LongAdder();
+    private final LongAdder unfinishedSweeps = new LongAdder();
+
     static
     {
         instance.start();
     }
 
     public MithraReferenceThread()
+    {
+        this(Integer.getInteger("mithra.referenceThread.workers", Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 4))),
+                Long.getLong("mithra.referenceThread.tickMillis", 1000),
+                Long.getLong("mithra.referenceThread.timeBudgetMillis", 50),
+                Long.getLong("mithra.referenceThread.maxIntervalMillis", 60000));
+    }
+
+    public MithraReferenceThread(int workerCount, long tickMillis, long timeBudgetMillis, long maxIntervalMillis)
     {
         super("MithraReferenceThread");
         this.setDaemon(true);
+        workerCount = Math.max(1, workerCount);
+        this.stripes = new Stripe[workerCount];
+        for (int i = 0; i < workerCount; i++)
+        {
+            this.stripes[i] = new Stripe();
+        }
+        this.workers = workerCount == 1 ? null : Executors.newFixedThreadPool(workerCount - 1, new ThreadFactory()
+        {
+            private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+            public Thread newThread(Runnable r)
+            {
+                Thread t = new Thread(r);
+                t.setDaemon(true);
+                t.setName("MithraReferenceWorker-" + threadNumber.incrementAndGet());
+                return t;
+            }
+        });
+        this.tickMillis = Math.max(1, tickMillis);
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        this.maxIntervalMillis = maxIntervalMillis;
+        this.armCollectionSentinel();
     }
 
     public static MithraReferenceThread getInstance()
@@ -60,9 +132,11 @@ public class MithraReferenceThread extends Thread
     @Override
     public void run()
     {
-        while(true)
+        long nextSweep = 0;
+        boolean unfinished = false;
+        while(!this.shutdown)
         {
-            if (this.listeners == null)
+            if (this.stripes == null)
             {
                 // only happens when badly written container code changes our private final variables
                 logger.error("Detected misbehaving container and shutting down MithraReferenceThread");
@@ -70,46 +144,46 @@ public class MithraReferenceThread extends Thread
             }
             try
             {
-                WeakReferenceListener toAdd = queue.poll();
-                while (toAdd != null)
+                boolean requested;
+                synchronized (this)
                 {
-                    listeners.add(toAdd);
-                    toAdd = queue.poll();
+                    requested = this.sweepRequested;
+                    this.sweepRequested = false;
                 }
-                FullUniqueIndex set = null;
-                ReferenceListener toRemove = removeQueue.poll();
-                while(toRemove != null)
+                // after taking the request, so a listener added right before runNow() is part of the sweep
+                this.addAndRemoveListeners();
+                boolean collected = false;
+                while (this.collectionQueue.poll() != null)
                 {
-                    if (set == null)
-                    {
-                        set = new FullUniqueIndex("", IdentityExtractor.getArrayInstance());
-                    }
-                    set.put(toRemove);
-                    toRemove = removeQueue.poll();
+                    collected = true;
                 }
-                for(int i=0;i<listeners.size();i++)
+                if (collected)
                 {
-                    WeakReferenceListener listener = listeners.get(i);
-                    ReferenceListener refListener = listener.get();
-                    if (refListener == null || (set != null && set.contains(refListener)))
-                    {
-                        this.listeners.removeByReplacingFromEnd(i);
-                        i--;
-                    }
-                    else
+                    this.armCollectionSentinel();
+                }
+                long now = System.currentTimeMillis();
+                if (requested || collected || unfinished || now >= nextSweep)
+                {
+                    unfinished = this.sweep();
+                    this.sweeps.increment();
+                    if (unfinished)
                     {
-                        refListener.evictCollectedReferences();
+                        this.unfinishedSweeps.increment();
                     }
+                    nextSweep = now + this.maxIntervalMillis;
                 }
                 synchronized (this)
                 {
-                    try
-                    {
-                        this.wait(60000);
-                    }
-                    catch (InterruptedException e)
+                    if (!this.sweepRequested && !this.shutdown)
                     {
-                        //ignore
+                        try
+                        {
+                            this.wait(this.tickMillis);
+                        }
+                        catch (InterruptedException e)
+                        {
+                            //ignore
+                        }
                     }
                 }
             }
@@ -122,6 +196,7 @@ public class MithraReferenceThread extends Thread
 
     public synchronized void runNow()
     {
+        this.sweepRequested = true;
         this.notify();
     }
 
@@ -130,6 +205,183 @@ public class MithraReferenceThread extends Thread
         removeQueue.add(listener);
     }
 
+    /**
+     * Stops this thread and its workers. Only meant for instances other than the shared one.
+     */
+    public void shutdown()
+    {
+        synchronized (this)
+        {
+            this.shutdown = true;
+            this.notify();
+        }
+        if (this.workers != null)
+        {
+            this.workers.shutdown();
+        }
+    }
+
+    /**
+     * @return the number of sweeps, including the ones that ran out of time
+     */
+    public long getSweepCount()
+    {
+        return this.sweeps.sum();
+    }
+
+    /**
+     * @return the number of sweeps that ran out of time before every listener was called
+     */
+    public long getUnfinishedSweepCount()
+    {
+        return this.unfinishedSweeps.sum();
+    }
+
+    private void armCollectionSentinel()
+    {
+        this.collectionSentinel = new WeakReference<Object>(new Object(), this.collectionQueue);
+    }
+
+    private void addAndRemoveListeners()
+    {
+        WeakReferenceListener toAdd = queue.poll();
+        while (toAdd != null)
+        {
+            Stripe smallest = this.stripes[0];
+            for (int i = 1; i < this.stripes.length; i++)
+            {
+                if (this.stripes[i].listeners.size() < smallest.listeners.size())
+                {
+                    smallest = this.stripes[i];
+                }
+            }
+            smallest.listeners.add(toAdd);
+            toAdd = queue.poll();
+        }
+        FullUniqueIndex set = null;
+        ReferenceListener toRemove = removeQueue.poll();
+        while(toRemove != null)
+        {
+            if (set == null)
+            {
+                set = new FullUniqueIndex("", IdentityExtractor.getArrayInstance());
+            }
+            set.put(toRemove);
+            toRemove = removeQueue.poll();
+        }
+        if (set != null)
+        {
+            for (Stripe stripe : this.stripes)
+            {
+                stripe.remove(set);
+            }
+        }
+    }
+
+    /**
+     * @return true if a stripe ran out of time
+     */
+    private boolean sweep()
+    {
+        if (this.workers == null)
+        {
+            return this.stripes[0].sweep(this.timeBudgetNanos);
+        }
+        List<Future<Boolean>> futures = FastList.newList(this.stripes.length - 1);
+        for (int i = 1; i < this.stripes.length; i++)
+        {
+            final Stripe stripe = this.stripes[i];
+            futures.add(this.workers.submit(new Callable<Boolean>()
+            {
+                public Boolean call()
+                {
+                    return stripe.sweep(timeBudgetNanos);
+                }
+            }));
+        }
+        boolean unfinished = this.stripes[0].sweep(this.timeBudgetNanos);
+        // a stripe's listeners must not be swept again until its previous sweep is done
+        for (int i = 0; i < futures.size(); i++)
+        {
+            boolean interrupted = false;
+            while (true)
+            {
+                try
+                {
+                    unfinished |= futures.get(i).get();
+                    break;
+                }
+                catch (ExecutionException e)
+                {
+                    logger.error("Reference thread error", e.getCause());
+                    break;
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted = true;
+                }
+            }
+            if (interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return unfinished;
+    }
+
+    private static class Stripe
+    {
+        private final MithraFastList<WeakReferenceListener> listeners = new MithraFastList<WeakReferenceListener>();
+        private int position;
+
+        private boolean sweep(long timeBudgetNanos)
+        {
+            long start = System.nanoTime();
+            int toVisit = this.listeners.size();
+            while (toVisit > 0 && !this.listeners.isEmpty())
+            {
+                toVisit--;
+                if (this.position >= this.listeners.size())
+                {
+                    this.position = 0;
+                }
+                ReferenceListener refListener = this.listeners.get(this.position).get();
+                if (refListener == null)
+                {
+                    this.listeners.removeByReplacingFromEnd(this.position);
+                    continue;
+                }
+                this.position++;
+                try
+                {
+                    refListener.evictCollectedReferences();
+                }
+                catch (Exception e)
+                {
+                    logger.error("Reference thread error", e);
+                }
+                if (toVisit > 0 && System.nanoTime() - start > timeBudgetNanos)
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void remove(FullUniqueIndex set)
+        {
+            for (int i = 0; i < this.listeners.size(); i++)
+            {
+                ReferenceListener refListener = this.listeners.get(i).get();
+                if (refListener == null || set.contains(refListener))
+                {
+                    this.listeners.removeByReplacingFromEnd(i);
+                    i--;
+                }
+            }
+        }
+    }
+
     private static class WeakReferenceListener extends WeakReference<ReferenceListener>
     {
         private WeakReferenceListener(ReferenceListener referent)
@@ -0,0 +1,54 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache;
+
+import com.gs.fw.common.mithra.util.Filter;
+import com.gs.fw.common.mithra.util.MithraFastList;
+
+
+public class ParallelFilterProcedure implements ParallelProcedure
+{
+    private final Filter filter;
+    private MithraFastList[] results;
+
+    public ParallelFilterProcedure(Filter filter)
+    {
+        this.filter = filter;
+    }
+
+    public MithraFastList[] getResult()
+    {
+        return results;
+    }
+
+    public void execute(Object o, int thread)
+    {
+        if (filter.matches(o))
+        {
+            results[thread].add(o);
+        }
+    }
+
+    public void setThreads(int threads, int expectedCallsPerChunk)
+    {
+        results = new MithraFastList[threads];
+        for(int i=0;i< threads;i++)
+        {
+            results[i] = new MithraFastList(Math.min(expectedCallsPerChunk, 16));
+        }
+    }
+}
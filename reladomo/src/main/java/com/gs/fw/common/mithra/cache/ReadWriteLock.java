@@ -16,6 +16,10 @@
 
 package com.gs.fw.common.mithra.cache;
 
+import com.gs.fw.common.mithra.util.MithraUnsafe;
+import sun.misc.Unsafe;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.locks.AbstractQueuedSynchronizer;
 
 
@@ -36,8 +40,12 @@ public class ReadWriteLock
 
     private static final int LOCK_MASK = (1 << lockPower) - 1;
 
+    private static final Unsafe UNSAFE = MithraUnsafe.getUnsafe();
+    private static final AtomicLongFieldUpdater<ReadWriteLock> versionUpdater = AtomicLongFieldUpdater.newUpdater(ReadWriteLock.class, "version");
+
     private final GlobalSync globalSync = new GlobalSync();
     private final LocalSync[] localSyncs = new LocalSync[lockCount];
+    private volatile long version = 2; // odd while a writer holds the lock. never zero, zero is the failed optimistic stamp
 
     public ReadWriteLock()
     {
@@ -82,6 +90,13 @@ public class ReadWriteLock
         {
             prepareLocalWriteLocksAndLockGlobal();
         }
+        beginWrite();
+    }
+
+    private void beginWrite()
+    {
+        this.version++; // only the writer changes the version, so this does not have to be atomic
+        UNSAFE.storeFence(); // the odd version must be visible before any of the writes it protects
     }
 
     private void prepareLocalWriteLocksAndLockGlobal()
@@ -104,6 +119,10 @@ public class ReadWriteLock
 
     public void release()
     {
+        if (globalSync.isHeldExclusively())
+        {
+            this.version++;
+        }
         if (!globalSync.releaseReadOrWrite())
         {
             localSyncs[getLocalSyncIndex()].releaseShared(0);
@@ -125,11 +144,47 @@ public class ReadWriteLock
      */
     public boolean upgradeToWriteLock()
     {
-        if (globalSync.trySingleReaderUpgrade()) return false;
+        if (globalSync.isHeldExclusively()) return false;
+        if (globalSync.trySingleReaderUpgrade())
+        {
+            beginWrite();
+            return false;
+        }
         slowUpgrade();
         return true;
     }
 
+    /**
+     * Starts an optimistic read, which takes no lock at all. The reader must treat everything it reads as
+     * possibly inconsistent (including exceptions thrown while reading) until {@link #validate(long)} succeeds.
+     *
+     * @return a stamp to pass to validate, or zero if a writer currently holds the lock
+     */
+    public long tryOptimisticRead()
+    {
+        long stamp = this.version;
+        return (stamp & 1) == 0 ? stamp : 0;
+    }
+
+    /**
+     * @param stamp a non-zero stamp from {@link #tryOptimisticRead()}
+     * @return true if no writer acquired the lock since the stamp was taken, so the reads done in between are consistent
+     */
+    public boolean validate(long stamp)
+    {
+        UNSAFE.loadFence();
+        return stamp == this.version;
+    }
+
+    /**
+     * Fails all optimistic reads in progress. Must be called with the read lock held, after a structure that
+     * optimistic readers can reach has been replaced without taking the write lock (for example a lazily built index).
+     */
+    public void invalidateOptimisticReads()
+    {
+        versionUpdater.addAndGet(this, 2);
+    }
+
     private void slowUpgrade()
     {
         this.release();
@@ -86,6 +86,17 @@ public class TypedCache implements Cache
         return this.filterByType(this.cache.getAll());
     }
 
+    public List getAll(final Filter filter)
+    {
+        return this.cache.getAll(new Filter()
+        {
+            public boolean matches(Object object)
+            {
+                return TypedCache.this.type.isAssignableFrom(object.getClass()) && filter.matches(object);
+            }
+        });
+    }
+
     public void forAll(final DoUntilProcedure procedure)
     {
         this.cache.forAll(new DoUntilProcedure()
@@ -76,11 +76,17 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
     protected final FastUnsafeOffHeapLongList pageVersionList = new FastUnsafeOffHeapLongList(1000); // made protected only for test
     protected long currentPageVersion = 0; // made protected only for test
     private final String businessClassName;
+    private final OffHeapMemoryAllocator allocator;
     private long maxReplicatedPageVersion = 0;
     private OffHeapStringExtractor[] stringAttributes;
     private OffHeapExtractor[] pkAttributes;
     private Constructor dataConstructor;
     private RelatedFinder finder;
+    // only used by the storage of a partial cache: data is held weakly, except for the most recently used
+    // data, which is held in a clock (second chance) ring
+    private MithraOffHeapDataObject[] retainedData;
+    private long[] accessedBits;
+    private int clockHand;
 
     static
     {
@@ -97,13 +103,23 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
     }
 
     public FastUnsafeOffHeapDataStorage(int dataSize, String businessClassName, RelatedFinder finder)
+    {
+        this(dataSize, businessClassName, finder, UnsafeOffHeapMemoryAllocator.INSTANCE);
+    }
+
+    /**
+     * Creates a storage whose memory comes from the given allocator, for example a MappedFileOffHeapMemoryAllocator
+     * to let the operating system page cold data out to disk.
+     */
+    public FastUnsafeOffHeapDataStorage(int dataSize, String businessClassName, RelatedFinder finder, OffHeapMemoryAllocator allocator)
     {
         LATER_FREE_THREAD.safeStart();
 
+        this.allocator = allocator;
         this.dataSize = dataSize;
         this.totalAllocated = this.dataSize << PAGE_POWER_OF_TWO; // one page
         this.maxIncreaseSize = this.dataSize << (PAGE_POWER_OF_TWO+10); // 1024 pages
-        baseAddress = UNSAFE.allocateMemory(totalAllocated);
+        baseAddress = allocator.allocate(totalAllocated);
         UNSAFE.setMemory(baseAddress, totalAllocated, (byte) 0);
         UNSAFE.putByte(baseAddress, AbstractDatedCache.REMOVED_VERSION); // we don't store anything in address 0 or 1
         UNSAFE.putByte(baseAddress + dataSize, AbstractDatedCache.REMOVED_VERSION); // we don't store anything in address 0 or 1
@@ -171,6 +187,19 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
         this.pkAttributes = pkExtractorList.toArray(new OffHeapExtractor[pkExtractorList.size()]);
     }
 
+    /**
+     * Creates the storage for a partial cache. Data is only referenced weakly, so memory is given back once the
+     * application lets go of the data. In addition, up to maxRetainedData of the most recently used data is held
+     * strongly; when that limit is reached, the least recently used data is picked with a clock (second chance) sweep
+     * and goes back to being weakly referenced.
+     */
+    public FastUnsafeOffHeapDataStorage(int dataSize, String businessClassName, RelatedFinder finder, int maxRetainedData)
+    {
+        this(dataSize, businessClassName, finder);
+        this.retainedData = new MithraOffHeapDataObject[maxRetainedData];
+        this.accessedBits = new long[(this.dataArray.length + 63) >> 6];
+    }
+
     private MithraOffHeapDataObject createData(MutableInteger[] index)
     {
         try
@@ -279,8 +308,9 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
     {
         syncLog.setInitialSync();
         FastList<FastUnsafeOffHeapPageBuffer> buffers = syncResult.getBuffers();
-        if (buffers.size() == 1)
+        if (buffers.size() == 1 && allocator == UnsafeOffHeapMemoryAllocator.INSTANCE)
         {
+            // the buffer was allocated with Unsafe, so it can only be adopted when we free with Unsafe as well
             processInitialSyncWithoutCopy(cache, buffers.get(0));
         }
         else
@@ -300,7 +330,7 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
         checkBufferPages(buffers, pages, pageLocationMap);
         long oldBase = this.baseAddress;
         totalAllocated = pages*this.getPageSize();
-        this.baseAddress = UNSAFE.allocateMemory(totalAllocated);
+        this.baseAddress = allocator.allocate(totalAllocated);
         computeMax();
         int dataCount = pages << PAGE_POWER_OF_TWO;
         dataArray = new Object[dataCount];
@@ -337,7 +367,7 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
         {
             this.readWriteLock.release();
         }
-        LATER_FREE_THREAD.queue(oldBase);
+        LATER_FREE_THREAD.queue(oldBase, allocator);
     }
 
     private void checkBufferPages(FastList<FastUnsafeOffHeapPageBuffer> buffers, int pages, IntLongHashMap pageLocationMap)
@@ -407,7 +437,7 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
             this.readWriteLock.release();
         }
         buffer.destroyWithoutBufferDeallocation();
-        LATER_FREE_THREAD.queue(oldBase);
+        LATER_FREE_THREAD.queue(oldBase, allocator);
     }
 
     private void processDataViaCopy(MasterSyncResult syncResult, int maxPage, OffHeapSyncableCache cache, SyncLog syncLog)
@@ -468,7 +498,7 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
                 computeMax();
                 dataArray = Arrays.copyOf(dataArray, max + 2);
                 fence++; // ensure baseAddress is visible in other threads
-                LATER_FREE_THREAD.queue(oldBase);
+                LATER_FREE_THREAD.queue(oldBase, allocator);
                 IntLongHashMap pageLocationMap = syncResult.getPageLocationMap();
                 updateCacheAfterRemovalAndBufferCopy(syncResult, maxPage, cache, currentMaxPage, buffers, toInsert, toUpdate, toNukeAndInsert, pageLocationMap, constructorArg);
 
@@ -799,7 +829,7 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
     {
         long pageSize = getPageSize();
         long newSize = (int)((maxPage+1)*1.1) * pageSize;
-        long newBase = UNSAFE.allocateMemory(newSize);
+        long newBase = allocator.allocate(newSize);
 
         IntLongHashMap pageLocationMap = syncResult.getPageLocationMap();
         FastList<FastUnsafeOffHeapPageBuffer> buffers = syncResult.getBuffers();
@@ -905,7 +935,7 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
                 {
                     totalFreed--;
                     UNSAFE.setMemory(computeAddress(stackHead, 0), dataSize, (byte) 0);
-                    dataArray[stackHead] = data;
+                    dataArray[stackHead] = wrapForStorage(data, stackHead);
                     markDataDirty(stackHead);
                     return stackHead;
                 }
@@ -916,13 +946,89 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
                 {
                     reallocate();
                 }
-                dataArray[++current] = data;
+                current++;
+                dataArray[current] = wrapForStorage(data, current);
                 markDataDirty(current);
                 return current;
             }
         }
     }
 
+    private Object wrapForStorage(MithraOffHeapDataObject data, int dataOffset)
+    {
+        if (this.retainedData == null)
+        {
+            return data;
+        }
+        retain(data);
+        return new WeakReferenceWithAddress(data, weakRefQueue, dataOffset, true);
+    }
+
+    private void retain(MithraOffHeapDataObject data)
+    {
+        MithraOffHeapDataObject[] ring = this.retainedData;
+        if (ring.length == 0)
+        {
+            return;
+        }
+        while(true)
+        {
+            MithraOffHeapDataObject candidate = ring[clockHand];
+            boolean secondChance = candidate != null && clearAccessed(candidate.zGetOffset());
+            if (!secondChance)
+            {
+                ring[clockHand] = data;
+            }
+            clockHand++;
+            if (clockHand == ring.length)
+            {
+                clockHand = 0;
+            }
+            if (!secondChance)
+            {
+                return;
+            }
+        }
+    }
+
+    private boolean clearAccessed(int dataOffset)
+    {
+        int word = dataOffset >> 6;
+        if (word >= accessedBits.length)
+        {
+            return false;
+        }
+        long mask = 1L << dataOffset;
+        long bits = accessedBits[word];
+        accessedBits[word] = bits & ~mask;
+        return (bits & mask) != 0;
+    }
+
+    @Override
+    public void markDataAccessed(int dataOffset)
+    {
+        // called by readers without the write lock; a lost update only costs the data its second chance
+        long[] bits = this.accessedBits;
+        if (bits != null)
+        {
+            int word = dataOffset >> 6;
+            if (word < bits.length)
+            {
+                bits[word] |= 1L << dataOffset;
+            }
+        }
+    }
+
+    private Object liveDataOrNull(Object o)
+    {
+        if (o instanceof WeakReferenceWithAddress)
+        {
+            WeakReferenceWithAddress weak = (WeakReferenceWithAddress) o;
+            return weak.live ? weak.get() : null;
+        }
+        return o;
+    }
+
     private void reallocate()
     {
         long newSize = this.totalAllocated;
@@ -940,7 +1046,7 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
     private void reallocate(long newSize)
     {
         assert newSize % getPageSize() == 0;
-        long newBase = UNSAFE.allocateMemory(newSize);
+        long newBase = allocator.allocate(newSize);
         assert newSize >= totalAllocated;
         UNSAFE.copyMemory(this.baseAddress, newBase, this.totalAllocated);
         UNSAFE.setMemory(newBase + totalAllocated, newSize - totalAllocated, (byte) 0);
@@ -949,15 +1055,32 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
         totalAllocated = newSize;
         computeMax();
         dataArray = Arrays.copyOf(dataArray, max + 2);
+        if (accessedBits != null)
+        {
+            accessedBits = Arrays.copyOf(accessedBits, (dataArray.length + 63) >> 6);
+        }
         fence++; // ensure baseAddress is visible in other threads
-        LATER_FREE_THREAD.queue(oldBase);
+        LATER_FREE_THREAD.queue(oldBase, allocator);
     }
 
     @Override
     public void free(int dataOffset)
     {
-        WeakReferenceWithAddress weak = new WeakReferenceWithAddress(dataArray[dataOffset], weakRefQueue, dataOffset);
-        dataArray[dataOffset] = weak;
+        Object o = dataArray[dataOffset];
+        if (this.retainedData != null && o instanceof WeakReferenceWithAddress)
+        {
+            WeakReferenceWithAddress weak = (WeakReferenceWithAddress) o;
+            if (!weak.live)
+            {
+                return;
+            }
+            weak.live = false;
+            clearAccessed(dataOffset);
+        }
+        else
+        {
+            dataArray[dataOffset] = new WeakReferenceWithAddress(o, weakRefQueue, dataOffset, false);
+        }
         totalFreed++;
         markDataDirty(dataOffset);
     }
@@ -979,10 +1102,11 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
     {
         if (!destroyed)
         {
-            UNSAFE.freeMemory(this.baseAddress);
+            allocator.free(this.baseAddress);
             destroyed = true;
             this.baseAddress = -(1L << 40); // about a terabyte
             this.dataArray = null;
+            this.retainedData = null;
             this.pageVersionList.destroy();
         }
     }
@@ -994,8 +1118,8 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
         int length = current + 1;
         for (int i = 2; i < length && !done; i++)
         {
-            Object o = dataArray[i];
-            if (o != null && !(o instanceof WeakReferenceWithAddress))
+            Object o = liveDataOrNull(dataArray[i]);
+            if (o != null)
             {
                 done = procedure.execute(o);
             }
@@ -1026,8 +1150,8 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
                     {
                         for (int i = segment.getStart(); i < segment.getEnd(); i++)
                         {
-                            Object o = dataArray[i];
-                            if (o != null && !(o instanceof WeakReferenceWithAddress))
+                            Object o = liveDataOrNull(dataArray[i]);
+                            if (o != null)
                             {
                                 procedure.execute(o, thread);
                             }
@@ -1047,12 +1171,16 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
         int length = current + 1;
         for (int i = 2; i < length; i++)
         {
-            Object o = dataArray[i];
-            if (o != null && !(o instanceof WeakReferenceWithAddress))
+            Object o = liveDataOrNull(dataArray[i]);
+            if (o != null)
             {
                 free(i);
             }
         }
+        if (this.retainedData != null)
+        {
+            Arrays.fill(this.retainedData, null);
+        }
         this.pageVersionList.clear();
     }
 
@@ -1428,11 +1556,13 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
     private static class WeakReferenceWithAddress extends WeakReference
     {
         private int address;
+        private boolean live; // only true for data of a partial cache that has not been freed
 
-        private WeakReferenceWithAddress(Object referent, ReferenceQueue q, int address)
+        private WeakReferenceWithAddress(Object referent, ReferenceQueue q, int address, boolean live)
         {
             super(referent, q);
             this.address = address;
+            this.live = live;
         }
     }
 
@@ -1455,6 +1585,11 @@ public class FastUnsafeOffHeapDataStorage implements OffHeapDataStorage
                     WeakReferenceWithAddress refWithAddress = (WeakReferenceWithAddress) r;
                     if (dataArray[refWithAddress.address] == refWithAddress)
                     {
+                        if (refWithAddress.live)
+                        {
+                            totalFreed++;
+                            clearAccessed(refWithAddress.address);
+                        }
                         dataArray[refWithAddress.address] = null;
                         while(true)
                         {
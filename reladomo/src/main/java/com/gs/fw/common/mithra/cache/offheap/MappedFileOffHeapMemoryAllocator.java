@@ -0,0 +1,191 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache.offheap;
+
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.util.MithraUnsafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sun.misc.Unsafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Backs each block with a memory mapped file in a directory, so the operating system can page cold data out to disk
+ * instead of the whole storage having to stay resident. Every block gets its own file, which is deleted when the block
+ * is freed. A single block is limited to 2GB by FileChannel.map.
+ */
+public class MappedFileOffHeapMemoryAllocator implements OffHeapMemoryAllocator
+{
+    private static final Logger logger = LoggerFactory.getLogger(MappedFileOffHeapMemoryAllocator.class);
+
+    private static final String FILE_SUFFIX = ".offheap";
+
+    private static final Unsafe UNSAFE = MithraUnsafe.getUnsafe();
+    private static final long BUFFER_ADDRESS_OFFSET = findBufferAddressOffset();
+    private static final Method INVOKE_CLEANER = findInvokeCleaner();
+
+    private final File directory;
+    private final String filePrefix;
+    private final ConcurrentHashMap<Long, MappedBlock> blocks = new ConcurrentHashMap<Long, MappedBlock>();
+
+    public MappedFileOffHeapMemoryAllocator(File directory, String filePrefix)
+    {
+        if (!directory.isDirectory() && !directory.mkdirs())
+        {
+            throw new MithraBusinessException("Could not create off heap file directory " + directory);
+        }
+        this.directory = directory;
+        this.filePrefix = filePrefix.length() < 3 ? filePrefix + "___" : filePrefix;
+    }
+
+    @Override
+    public long allocate(long size)
+    {
+        if (size > Integer.MAX_VALUE)
+        {
+            throw new MithraBusinessException("Memory mapped off heap storage for " + filePrefix + " cannot grow to " + size + " bytes. The limit is 2GB");
+        }
+        File file = null;
+        try
+        {
+            file = File.createTempFile(filePrefix, FILE_SUFFIX, directory);
+            RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+            try
+            {
+                randomAccessFile.setLength(size); // the extension reads as zeros
+                MappedByteBuffer buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+                long address = UNSAFE.getLong(buffer, BUFFER_ADDRESS_OFFSET);
+                blocks.put(address, new MappedBlock(file, buffer));
+                return address;
+            }
+            finally
+            {
+                randomAccessFile.close(); // the mapping stays valid after the channel is closed
+            }
+        }
+        catch (IOException e)
+        {
+            if (file != null)
+            {
+                file.delete();
+            }
+            throw new MithraBusinessException("Could not map " + size + " bytes for " + filePrefix + " in " + directory, e);
+        }
+    }
+
+    @Override
+    public void free(long address)
+    {
+        MappedBlock block = blocks.remove(address);
+        if (block == null)
+        {
+            throw new IllegalArgumentException("address " + address + " was not allocated by " + this);
+        }
+        block.unmap();
+    }
+
+    public int getMappedFileCount()
+    {
+        return blocks.size();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MappedFileOffHeapMemoryAllocator[" + new File(directory, filePrefix + "*" + FILE_SUFFIX) + "]";
+    }
+
+    private static long findBufferAddressOffset()
+    {
+        try
+        {
+            return UNSAFE.objectFieldOffset(Buffer.class.getDeclaredField("address"));
+        }
+        catch (NoSuchFieldException e)
+        {
+            throw new RuntimeException("Could not find the address of direct buffers", e);
+        }
+    }
+
+    // Unsafe.invokeCleaner exists from JDK 9 on, where the buffer's own cleaner is no longer accessible
+    private static Method findInvokeCleaner()
+    {
+        try
+        {
+            return Unsafe.class.getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (NoSuchMethodException e)
+        {
+            return null;
+        }
+    }
+
+    private static void unmap(MappedByteBuffer buffer)
+    {
+        try
+        {
+            if (INVOKE_CLEANER != null)
+            {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            }
+            else
+            {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null)
+                {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        }
+        catch (Exception e)
+        {
+            logger.warn("Could not unmap off heap buffer, it will be unmapped when it is garbage collected", e);
+        }
+    }
+
+    private static final class MappedBlock
+    {
+        private final File file;
+        private final MappedByteBuffer buffer;
+
+        private MappedBlock(File file, MappedByteBuffer buffer)
+        {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        private void unmap()
+        {
+            MappedFileOffHeapMemoryAllocator.unmap(buffer);
+            if (!file.delete())
+            {
+                logger.warn("Could not delete off heap file " + file);
+            }
+        }
+    }
+}
@@ -75,5 +75,11 @@ public interface OffHeapDataStorage extends ReferenceListener
 
     public void markDataDirty(int dataOffset);
 
+    /**
+     * Records a use of the data at the given offset. Only storage backing a partial cache tracks usage;
+     * it is what keeps recently used data from being evicted.
+     */
+    public void markDataAccessed(int dataOffset);
+
     public MasterSyncResult sendSyncResult(long maxReplicatedPageVersion);
 }
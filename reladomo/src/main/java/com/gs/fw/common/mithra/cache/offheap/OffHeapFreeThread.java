@@ -50,6 +50,11 @@ public class OffHeapFreeThread extends Thread
     }
 
     public void queue(long base)
+    {
+        queue(base, UnsafeOffHeapMemoryAllocator.INSTANCE);
+    }
+
+    public void queue(long base, OffHeapMemoryAllocator allocator)
     {
         Map<Thread, StackTraceElement[]> allStackTraces = UnifiedMap.newMap(Thread.getAllStackTraces());
         allStackTraces.remove(Thread.currentThread());
@@ -64,7 +69,7 @@ public class OffHeapFreeThread extends Thread
         logger.debug("Queuing "+base+" to free later");
         synchronized (newToFree)
         {
-            newToFree.add(new OffHeapThreadSnapShot(base, allStackTraces));
+            newToFree.add(new OffHeapThreadSnapShot(base, allocator, allStackTraces));
         }
     }
 
@@ -142,7 +147,7 @@ public class OffHeapFreeThread extends Thread
                         toFree.remove(i);
                         i--;
                         logger.debug("Freeing "+snapShot.base);
-                        UNSAFE.freeMemory(snapShot.base);
+                        snapShot.allocator.free(snapShot.base);
                     }
                 }
             }
@@ -160,7 +165,7 @@ public class OffHeapFreeThread extends Thread
                 toFree.remove(i);
                 i--;
                 logger.info("Freeing "+snapShot.base);
-                UNSAFE.freeMemory(snapShot.base);
+                snapShot.allocator.free(snapShot.base);
             }
         }
     }
@@ -197,7 +202,7 @@ public class OffHeapFreeThread extends Thread
                 toFree.remove(i);
                 i--;
                 logger.info("Freeing "+snapShot.base);
-                UNSAFE.freeMemory(snapShot.base);
+                snapShot.allocator.free(snapShot.base);
             }
         }
     }
@@ -252,12 +257,14 @@ public class OffHeapFreeThread extends Thread
     private static final class OffHeapThreadSnapShot
     {
         private long base;
+        private OffHeapMemoryAllocator allocator;
         private Map<Thread, StackTraceElement[]> activeThreads;
         private long startTime;
 
-        private OffHeapThreadSnapShot(long base, Map<Thread, StackTraceElement[]> activeThreads)
+        private OffHeapThreadSnapShot(long base, OffHeapMemoryAllocator allocator, Map<Thread, StackTraceElement[]> activeThreads)
         {
             this.base = base;
+            this.allocator = allocator;
             this.activeThreads = activeThreads;
             startTime = System.currentTimeMillis();
         }
@@ -0,0 +1,31 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache.offheap;
+
+/**
+ * Source of the memory block behind a FastUnsafeOffHeapDataStorage. Blocks are addressed with Unsafe, so they must stay
+ * at the same address until they are freed.
+ */
+public interface OffHeapMemoryAllocator
+{
+    /**
+     * @return the address of a block of the given size. The contents are undefined, callers zero what they need
+     */
+    public long allocate(long size);
+
+    public void free(long address);
+}
@@ -0,0 +1,188 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache.offheap;
+
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.MithraDatedObject;
+import com.gs.fw.common.mithra.MithraDatedObjectFactory;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.cache.AbstractDatedCache;
+import com.gs.fw.common.mithra.cache.Index;
+import com.gs.fw.common.mithra.cache.PartialSemiUniqueDatedIndex;
+import com.gs.fw.common.mithra.cache.ReferenceListener;
+import com.gs.fw.common.mithra.cache.SemiUniqueDatedIndex;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.notification.listener.MithraNotificationListener;
+import com.gs.fw.common.mithra.notification.listener.PartialDatedCacheMithraNotificationListener;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * A partial cache that keeps its data in an {@link OffHeapDataStorage}. The index holds the data weakly, just like
+ * {@link com.gs.fw.common.mithra.cache.PartialDatedCache}, and the storage holds weakly all data except the
+ * most recently used, so the off-heap memory in use is bounded by what the storage retains plus what the
+ * application references.
+ */
+public class OffHeapPartialDatedCache extends AbstractDatedCache implements ReferenceListener
+{
+    private PartialDatedCacheMithraNotificationListener notificationListener;
+    private OffHeapDataStorage dataStorage;
+
+    public OffHeapPartialDatedCache(Attribute[] nonDatedPkAttributes, AsOfAttribute[] asOfAttributes,
+            MithraDatedObjectFactory factory, Attribute[] immutableAttributes, long timeToLive, long relationshipTimeToLive,
+            OffHeapDataStorage dataStorage)
+    {
+        super(nonDatedPkAttributes, asOfAttributes, factory, immutableAttributes, timeToLive, relationshipTimeToLive, dataStorage);
+        this.dataStorage = dataStorage;
+        this.dataStorage.setReadWriteLock(this.getCacheLock());
+    }
+
+    @Override
+    protected Index createIndex(String indexName, Extractor[] extractors, OffHeapDataStorage dataStorage)
+    {
+        return null; // this is a partial cache
+    }
+
+    @Override
+    protected SemiUniqueDatedIndex createSemiUniqueDatedIndex(String indexName, Extractor[] extractors, AsOfAttribute[] asOfAttributes, long timeToLive, long relationshipTimeToLive, OffHeapDataStorage dataStorage)
+    {
+        return new PartialSemiUniqueDatedIndex(indexName, extractors, asOfAttributes, timeToLive, relationshipTimeToLive);
+    }
+
+    @Override
+    protected MithraDataObject copyDataForCacheIgnoringTransaction(MithraDataObject dataObject)
+    {
+        return dataObject.zCopyOffHeap();
+    }
+
+    @Override
+    protected MithraDataObject copyDataForCacheIfNotInTransaction(MithraDataObject dataObject)
+    {
+        return dataObject.zCopyOffHeap();
+    }
+
+    @Override
+    protected List copyDataForCacheIgnoringTransaction(List dataObjects)
+    {
+        this.dataStorage.ensureExtraCapacity(dataObjects.size());
+        List result = FastList.newList(dataObjects.size());
+        for(int i=0;i<dataObjects.size();i++)
+        {
+            result.add(((MithraDataObject)dataObjects.get(i)).zCopyOffHeap());
+        }
+        return result;
+    }
+
+    @Override
+    protected void releaseCacheData(MithraDataObject removed)
+    {
+        if (removed instanceof MithraOffHeapDataObject)
+        {
+            MithraOffHeapDataObject data = (MithraOffHeapDataObject) removed;
+            dataStorage.free(data.zGetOffset());
+        }
+    }
+
+    @Override
+    protected MithraDatedObject getBusinessObjectFromData(MithraDataObject data, Timestamp[] asOfDates, int nonPkHashCode,
+            boolean weak, MithraTransaction tx, boolean isLocked)
+    {
+        markAccessed(data);
+        return super.getBusinessObjectFromData(data, asOfDates, nonPkHashCode, weak, tx, isLocked);
+    }
+
+    @Override
+    protected MithraDatedObject getBusinessObjectFromData(MithraDataObject data, Timestamp[] asOfDates, int nonPkHashCode,
+            boolean weak, boolean isLocked)
+    {
+        markAccessed(data);
+        return super.getBusinessObjectFromData(data, asOfDates, nonPkHashCode, weak, isLocked);
+    }
+
+    private void markAccessed(MithraDataObject data)
+    {
+        if (data instanceof MithraOffHeapDataObject)
+        {
+            dataStorage.markDataAccessed(((MithraOffHeapDataObject) data).zGetOffset());
+        }
+    }
+
+    @Override
+    public void evictCollectedReferences()
+    {
+        super.evictCollectedReferences();
+        dataStorage.evictCollectedReferences();
+    }
+
+    public boolean isFullCache()
+    {
+        return false;
+    }
+
+    public boolean isPartialCache()
+    {
+        return true;
+    }
+
+    @Override
+    public boolean isOffHeap()
+    {
+        return false; // the index is an on-heap partial index, so relationship lookups must hash the on-heap way
+    }
+
+    @Override
+    public long getOffHeapAllocatedDataSize()
+    {
+        return dataStorage.getAllocatedSize();
+    }
+
+    @Override
+    public long getOffHeapUsedDataSize()
+    {
+        return dataStorage.getUsedSize();
+    }
+
+    public MithraNotificationListener createNotificationListener(MithraObjectPortal portal)
+    {
+        PartialDatedCacheMithraNotificationListener local = this.notificationListener;
+        if (local == null || local.getMithraObjectPortal() != portal)
+        {
+            local = new PartialDatedCacheMithraNotificationListener(portal);
+            notificationListener = local;
+        }
+        return local;
+    }
+
+    @Override
+    protected void ensureExtraCapacity(int size)
+    {
+        super.ensureExtraCapacity(size);
+        this.dataStorage.ensureExtraCapacity(size);
+    }
+
+    @Override
+    protected void reportSpaceUsage()
+    {
+        String className = this.getPrimaryKeyAttributes()[0].zGetTopOwnerClassName();
+        this.dataStorage.reportSpaceUsage(this.getLogger(), className);
+    }
+}
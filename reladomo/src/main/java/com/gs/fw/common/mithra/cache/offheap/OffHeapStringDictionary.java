@@ -0,0 +1,284 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache.offheap;
+
+import com.gs.fw.common.mithra.util.MithraUnsafe;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import sun.misc.Unsafe;
+
+/**
+ * Maps the int codes handed out by the string pool to the characters of their strings, kept in off-heap segments.
+ * Only the segment addresses and one long per code stay on the heap. Strings are materialized when they're read;
+ * a small, direct mapped cache of recently read strings keeps low cardinality columns (currencies, statuses, region
+ * codes) from being decoded over and over.
+ * <p>
+ * Each string is a header (length and encoding) followed by its characters: one byte per character when every
+ * character fits in a byte, two otherwise. Codes are never reused, so the dictionary only grows.
+ */
+public class OffHeapStringDictionary
+{
+    private static final Unsafe UNSAFE = MithraUnsafe.getUnsafe();
+    private static final long CHAR_ARRAY_BASE = UNSAFE.arrayBaseOffset(char[].class);
+
+    private static final int FIRST_SEGMENT_SIZE = 64 * 1024;
+    private static final int MAX_SEGMENT_SIZE = 1024 * 1024;
+    private static final int HEADER_SIZE = 4;
+    private static final int LATIN1 = 1;
+
+    private final OffHeapMemoryAllocator allocator;
+    private final HotString[] hotStrings;
+    private final int hotMask;
+
+    // the first two codes are taken by StringIndex.NULL_STRING and StringIndex.UNKNOWN_STRING
+    private volatile int end = 1;
+    private volatile long[] addresses = new long[32000];
+    private final LongArrayList segments = new LongArrayList();
+    private long segmentAddress;
+    private int segmentSize;
+    private int segmentUsed;
+    private long allocatedBytes;
+
+    /**
+     * @param hotCacheSize the number of recently read strings kept on the heap; rounded up to a power of two
+     */
+    public OffHeapStringDictionary(int hotCacheSize)
+    {
+        this(hotCacheSize, UnsafeOffHeapMemoryAllocator.INSTANCE);
+    }
+
+    public OffHeapStringDictionary(int hotCacheSize, OffHeapMemoryAllocator allocator)
+    {
+        this.allocator = allocator;
+        int size = 1;
+        while (size < hotCacheSize)
+        {
+            size <<= 1;
+        }
+        this.hotStrings = new HotString[size];
+        this.hotMask = size - 1;
+    }
+
+    /**
+     * @return the code of a copy of the string; the same string stored twice gets two codes
+     */
+    public synchronized int store(String value)
+    {
+        int length = value.length();
+        boolean latin1 = isLatin1(value, length);
+        int recordSize = HEADER_SIZE + (latin1 ? length : length << 1);
+        long address = this.reserve(recordSize);
+        UNSAFE.putInt(address, latin1 ? (length << 1) | LATIN1 : length << 1);
+        long charAddress = address + HEADER_SIZE;
+        if (latin1)
+        {
+            for (int i = 0; i < length; i++)
+            {
+                UNSAFE.putByte(charAddress + i, (byte) value.charAt(i));
+            }
+        }
+        else
+        {
+            UNSAFE.copyMemory(value.toCharArray(), CHAR_ARRAY_BASE, null, charAddress, (long) length << 1);
+        }
+        int code = this.end + 1;
+        long[] localAddresses = this.addresses;
+        if (code == localAddresses.length)
+        {
+            long[] newAddresses = new long[localAddresses.length << 1];
+            System.arraycopy(localAddresses, 0, newAddresses, 0, localAddresses.length);
+            localAddresses = newAddresses;
+        }
+        localAddresses[code] = address;
+        this.addresses = localAddresses;
+        this.end = code;
+        this.hotStrings[code & this.hotMask] = new HotString(code, value);
+        return code;
+    }
+
+    public String getString(int code)
+    {
+        HotString hot = this.hotStrings[code & this.hotMask];
+        if (hot != null && hot.code == code)
+        {
+            return hot.value;
+        }
+        long[] localAddresses = this.addresses;
+        if (code >= localAddresses.length || localAddresses[code] == 0)
+        {
+            return null;
+        }
+        String value = decode(localAddresses[code]);
+        this.hotStrings[code & this.hotMask] = new HotString(code, value);
+        return value;
+    }
+
+    /**
+     * Compares the stored characters without materializing the string.
+     */
+    public boolean matches(int code, String value)
+    {
+        HotString hot = this.hotStrings[code & this.hotMask];
+        if (hot != null && hot.code == code)
+        {
+            return hot.value.equals(value);
+        }
+        long address = this.addresses[code];
+        int header = UNSAFE.getInt(address);
+        int length = header >>> 1;
+        if (length != value.length())
+        {
+            return false;
+        }
+        long charAddress = address + HEADER_SIZE;
+        if ((header & LATIN1) != 0)
+        {
+            for (int i = 0; i < length; i++)
+            {
+                if ((char) (UNSAFE.getByte(charAddress + i) & 0xFF) != value.charAt(i))
+                {
+                    return false;
+                }
+            }
+        }
+        else
+        {
+            for (int i = 0; i < length; i++)
+            {
+                if (UNSAFE.getChar(charAddress + ((long) i << 1)) != value.charAt(i))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the highest code handed out so far, or 1 if the dictionary is empty
+     */
+    public int getMaxStringAddress()
+    {
+        return this.end;
+    }
+
+    public int size()
+    {
+        return this.end - 1;
+    }
+
+    /**
+     * @return the off-heap memory taken by the dictionary
+     */
+    public synchronized long getAllocatedBytes()
+    {
+        return this.allocatedBytes;
+    }
+
+    public synchronized void destroy()
+    {
+        for (int i = 0; i < this.segments.size(); i++)
+        {
+            this.allocator.free(this.segments.get(i));
+        }
+        this.segments.clear();
+        this.segmentAddress = 0;
+        this.segmentSize = 0;
+        this.segmentUsed = 0;
+        this.allocatedBytes = 0;
+        this.end = 1;
+        this.addresses = new long[32000];
+        for (int i = 0; i < this.hotStrings.length; i++)
+        {
+            this.hotStrings[i] = null;
+        }
+    }
+
+    private long reserve(int recordSize)
+    {
+        if (this.segmentUsed + recordSize > this.segmentSize)
+        {
+            if (recordSize > MAX_SEGMENT_SIZE)
+            {
+                // a string too large for a segment gets a block of its own
+                return this.allocateSegment(recordSize);
+            }
+            int newSize = this.segmentSize == 0 ? FIRST_SEGMENT_SIZE : Math.min(this.segmentSize << 1, MAX_SEGMENT_SIZE);
+            while (newSize < recordSize)
+            {
+                newSize <<= 1;
+            }
+            this.segmentAddress = this.allocateSegment(newSize);
+            this.segmentSize = newSize;
+            this.segmentUsed = 0;
+        }
+        long address = this.segmentAddress + this.segmentUsed;
+        this.segmentUsed += recordSize;
+        return address;
+    }
+
+    private long allocateSegment(int size)
+    {
+        long address = this.allocator.allocate(size);
+        this.segments.add(address);
+        this.allocatedBytes += size;
+        return address;
+    }
+
+    private static boolean isLatin1(String value, int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            if (value.charAt(i) > 0xFF)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String decode(long address)
+    {
+        int header = UNSAFE.getInt(address);
+        int length = header >>> 1;
+        char[] chars = new char[length];
+        long charAddress = address + HEADER_SIZE;
+        if ((header & LATIN1) != 0)
+        {
+            for (int i = 0; i < length; i++)
+            {
+                chars[i] = (char) (UNSAFE.getByte(charAddress + i) & 0xFF);
+            }
+        }
+        else
+        {
+            UNSAFE.copyMemory(null, charAddress, chars, CHAR_ARRAY_BASE, (long) length << 1);
+        }
+        return new String(chars);
+    }
+
+    private static final class HotString
+    {
+        private final int code;
+        private final String value;
+
+        private HotString(int code, String value)
+        {
+            this.code = code;
+            this.value = value;
+        }
+    }
+}
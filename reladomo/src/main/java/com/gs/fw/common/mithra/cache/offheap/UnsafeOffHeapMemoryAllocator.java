@@ -0,0 +1,43 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache.offheap;
+
+import com.gs.fw.common.mithra.util.MithraUnsafe;
+import sun.misc.Unsafe;
+
+public class UnsafeOffHeapMemoryAllocator implements OffHeapMemoryAllocator
+{
+    public static final UnsafeOffHeapMemoryAllocator INSTANCE = new UnsafeOffHeapMemoryAllocator();
+
+    private static Unsafe UNSAFE = MithraUnsafe.getUnsafe();
+
+    private UnsafeOffHeapMemoryAllocator()
+    {
+    }
+
+    @Override
+    public long allocate(long size)
+    {
+        return UNSAFE.allocateMemory(size);
+    }
+
+    @Override
+    public void free(long address)
+    {
+        UNSAFE.freeMemory(address);
+    }
+}
@@ -71,6 +71,11 @@ public abstract class AbstractLoaderFactory implements TopLevelLoaderFactory
         this.prerequisiteClassNames.addAll(prerequisiteClassNames);
     }
 
+    protected Set<String> getPrerequisiteClassNames()
+    {
+        return this.prerequisiteClassNames;
+    }
+
     public MithraRuntimeCacheController getClassController()
     {
         return this.runtimeCacheController;
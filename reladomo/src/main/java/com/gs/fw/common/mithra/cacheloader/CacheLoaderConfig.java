@@ -97,7 +97,8 @@ public class CacheLoaderConfig
                 Boolean.valueOf(this.cacheLoaderConfig.getCaptureLoadingTaskDetails()),
                 Integer.valueOf(this.cacheLoaderConfig.getThreadsPerDbServer()),
                 Integer.valueOf(this.cacheLoaderConfig.getSyslogCheckThreshold()),
-                Integer.valueOf(this.cacheLoaderConfig.getSyslogCheckWaitTime())
+                Integer.valueOf(this.cacheLoaderConfig.getSyslogCheckWaitTime()),
+                Boolean.valueOf(this.cacheLoaderConfig.getWorkStealing())
         );
     }
 
@@ -66,6 +66,7 @@ public class CacheLoaderContext
     protected void execute(CacheLoaderMonitor monitor)
     {
         monitor.setCacheLoaderContext(this);
+        this.cacheLoaderManager.zSetCurrentProgress(this.engine.getProgress());
         monitor.update();
 
         try
@@ -196,6 +197,7 @@ public class CacheLoaderContext
     public void updateCacheLoaderMonitor(CacheLoaderMonitor monitor)
     {
         monitor.setThreadPoolMonitors(this.engine.getThreadPoolMonitors());
+        monitor.setProgress(this.engine.getProgress());
         if (this.engine.getTaskMonitors() == null)
         {
             for (LoadingTaskRunner each : this.dataSetLoaders)
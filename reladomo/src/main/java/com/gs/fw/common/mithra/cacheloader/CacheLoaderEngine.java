@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionHandler
 {
@@ -41,7 +42,7 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
      * it is changed by +1 when object added to the queue stripe on the DepenendentCursor and and by -stripe.size() when stripe is dequeued
      * is it changed by +1 when object is added to the dependent key index and by -list.size() when loading task is created from the index.
      */
-    private long count = 0L;
+    private final AtomicLong count = new AtomicLong();
     private boolean readyToScheduleTasks = true;
 
     private final List<LoadingTaskRunner> loadingTaskRunners = FastList.newList();
@@ -51,6 +52,8 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
     private List<RuntimeException> exceptions = FastList.<RuntimeException>newList().asSynchronized();
 
     private ConfigValues configValues;
+    private WorkStealingLoadingScheduler workStealingScheduler;
+    private final CacheLoaderProgress progress = new CacheLoaderProgress(this);
 
     /**
      * @threadsafe executed during engine construction
@@ -64,8 +67,19 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
             {
                 throw new RuntimeException();
             }
-            loadingTaskThreadPoolHolder = new LoadingTaskThreadPoolHolder(this, name, this.configValues.getThreadsPerDbServer(),
-                    new SyslogChecker(this.configValues.getSyslogCheckThreshold(), this.configValues.getSyslogCheckMaxWait()));
+            SyslogChecker syslogChecker = new SyslogChecker(this.configValues.getSyslogCheckThreshold(), this.configValues.getSyslogCheckMaxWait());
+            if (this.configValues.isWorkStealing())
+            {
+                if (this.workStealingScheduler == null)
+                {
+                    this.workStealingScheduler = new WorkStealingLoadingScheduler(this, "CacheLoader");
+                }
+                loadingTaskThreadPoolHolder = new LoadingTaskThreadPoolHolder(this.workStealingScheduler, name, this.configValues.getThreadsPerDbServer(), syslogChecker);
+            }
+            else
+            {
+                loadingTaskThreadPoolHolder = new LoadingTaskThreadPoolHolder(this, name, this.configValues.getThreadsPerDbServer(), syslogChecker);
+            }
             loadingTaskTreadPools.put(name, loadingTaskThreadPoolHolder);
         }
 
@@ -89,6 +103,7 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
         synchronized (this.loadingTaskRunners)
         {
             loadingTaskRunners.add(loadingTaskRunner);
+            this.progress.addTask(loadingTaskRunner.getLoadingTaskMonitor());
             if (configValues.isCaptureLoadingTaskDetails())
             {
                 this.taskMonitors.add(loadingTaskRunner.getLoadingTaskMonitor());
@@ -124,9 +139,9 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
         if (this.stopped) throw new RuntimeException("The engine is stopped.");
     }
 
-    public synchronized void changeKeyIndexCount(long diff)
+    public void changeKeyIndexCount(long diff)
     {
-        this.count += diff;
+        this.count.addAndGet(diff);
     }
 
     /**
@@ -144,19 +159,17 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
      * and these are duplicates. So we add 0 at #4 and deduct all items from the stripe at #5. The count=0 but we do
      * not have any tasks to execute and nobody will notify the engine to get out of wait.
      */
-    public synchronized void changeStripedCount(long diff)
+    public void changeStripedCount(long diff)
     {
-        this.count += diff;
-
-        if (this.count == 0)
+        if (this.count.addAndGet(diff) == 0)
         {
             this.signalTaskCompleted();
         }
     }
 
-    public synchronized void changeTaskCount(long diff)
+    public void changeTaskCount(long diff)
     {
-        this.count += diff;
+        this.count.addAndGet(diff);
     }
 
     private void startThreadPools()
@@ -176,6 +189,7 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
     public void waitUntilAllTasksCompleted()
     {
         this.startThreadPools();
+        this.progress.markStarted();
 
         if (LOGGER.isInfoEnabled())
         {
@@ -192,6 +206,7 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
         }
         finally
         {
+            this.progress.markFinished();
             this.shutdown();
             this.checkExceptions();
         }
@@ -237,7 +252,7 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
             {
                 this.wait();
                 this.readyToScheduleTasks = false;
-                return count != 0;
+                return count.get() != 0;
             }
             catch (InterruptedException ie)
             {
@@ -245,7 +260,7 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
             }
         }
         this.readyToScheduleTasks = false;
-        return count != 0;
+        return count.get() != 0;
     }
 
     public List<LoadingTaskThreadPoolMonitor> getThreadPoolMonitors()
@@ -261,6 +276,11 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
         return monitors;
     }
 
+    public ConfigValues getConfigValues()
+    {
+        return this.configValues;
+    }
+
     public void setConfigValues(ConfigValues configValues)
     {
         this.configValues = configValues;
@@ -297,6 +317,22 @@ public class CacheLoaderEngine implements ExternalQueueThreadExecutor.ExceptionH
 
     public long count()
     {
-        return this.count;
+        return this.count.get();
+    }
+
+    /**
+     * @return live timings, row counts and estimates for this load
+     */
+    public CacheLoaderProgress getProgress()
+    {
+        return this.progress;
+    }
+
+    /**
+     * @return the shared scheduler when the engine runs with workStealing, null otherwise
+     */
+    public WorkStealingLoadingScheduler getWorkStealingScheduler()
+    {
+        return this.workStealingScheduler;
     }
 }
@@ -19,6 +19,7 @@ package com.gs.fw.common.mithra.cacheloader;
 
 import com.gs.fw.common.mithra.util.Filter;
 
+import java.io.File;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
@@ -70,4 +71,24 @@ public interface CacheLoaderManager
      * @param monitor
      */
     public void loadDependentObjectsFor(List ownerObjects, List<Timestamp> businessDates, Timestamp loadEndTime, CacheLoaderMonitor monitor);
+
+    /**
+     * write a snapshot of every processing date milestoned class defined in the configuration file into the directory,
+     * one file per class. The snapshot time of each file is the latest refresh time of the class.
+     *
+     * @param snapshotDirectory the directory to write to. Existing snapshots are replaced.
+     */
+    public void writeCacheSnapshots(File snapshotDirectory);
+
+    /**
+     * load all classes defined in configuration file from the snapshots in the directory and catch up with the
+     * database by refreshing from the oldest snapshot time to loadEndTime. Classes without a usable snapshot (missing,
+     * corrupt or not processing date milestoned) are loaded from the database instead.
+     *
+     * @param businessDates list of business dates to be loaded. For non-business dated caches, this parameter should be an empty list.
+     * @param snapshotDirectory directory written by writeCacheSnapshots
+     * @param loadEndTime used as a processing time up to which the data is loaded. The same processing time need to be used as a starting point of the next refresh
+     * @param monitor
+     */
+    public void runWarmStart(List<Timestamp> businessDates, File snapshotDirectory, Timestamp loadEndTime, CacheLoaderMonitor monitor);
 }
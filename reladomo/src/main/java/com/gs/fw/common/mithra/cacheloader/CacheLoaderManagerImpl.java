@@ -18,22 +18,48 @@
 package com.gs.fw.common.mithra.cacheloader;
 
 
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
 import com.gs.fw.common.mithra.util.BooleanFilter;
 import com.gs.fw.common.mithra.util.Filter;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
 import com.gs.fw.common.mithra.util.TrueFilter;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 
 public final class CacheLoaderManagerImpl implements CacheLoaderManager
 {
+    private static final Logger logger = LoggerFactory.getLogger(CacheLoaderManagerImpl.class);
+
+    public static final String CACHE_SNAPSHOT_SUFFIX = ".snapshot";
+
     private List<TopLevelLoaderFactory> topLevelLoaderFactories = FastList.newList();
     private List<DependentLoaderFactory> dependentSetLoaderFactories = FastList.newList();
     private ConfigValues configValues = new ConfigValues();
+    private ScheduledExecutorService snapshotDaemon;
+    private Thread snapshotShutdownHook;
+    private volatile CacheLoaderProgress currentProgress;
 
     public void runInitialLoad(List<Timestamp> businessDates, Timestamp initialLoadEndTime, CacheLoaderMonitor monitor)
     {
@@ -61,6 +87,253 @@ public final class CacheLoaderManagerImpl implements CacheLoaderManager
         context.execute(monitor);
     }
 
+    public void writeCacheSnapshots(final File snapshotDirectory)
+    {
+        if (!snapshotDirectory.isDirectory() && !snapshotDirectory.mkdirs())
+        {
+            throw new MithraBusinessException("Could not create cache snapshot directory " + snapshotDirectory);
+        }
+        List<Callable<Long>> writers = FastList.newList();
+        for (final MithraRuntimeCacheController each : this.getSnapshotClassControllers())
+        {
+            writers.add(new Callable<Long>()
+            {
+                public Long call() throws Exception
+                {
+                    long snapshotTime = each.getMithraObjectPortal().getLatestRefreshTime();
+                    if (snapshotTime == 0)
+                    {
+                        logger.warn("Not writing a cache snapshot for " + each.getClassName() + " as it was never loaded by the cache loader");
+                        return 0L;
+                    }
+                    each.writeCacheSnapshot(getSnapshotFile(snapshotDirectory, each), snapshotTime);
+                    return snapshotTime;
+                }
+            });
+        }
+        Throwable firstFailure = null;
+        for (Future<Long> each : this.runInParallel(writers))
+        {
+            try
+            {
+                each.get();
+            }
+            catch (Exception e)
+            {
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                logger.error("Could not write cache snapshot into " + snapshotDirectory, cause);
+                if (firstFailure == null)
+                {
+                    firstFailure = cause;
+                }
+            }
+        }
+        if (firstFailure != null)
+        {
+            throw new MithraBusinessException("Could not write cache snapshots into " + snapshotDirectory, firstFailure);
+        }
+    }
+
+    public void runWarmStart(List<Timestamp> businessDates, final File snapshotDirectory, Timestamp loadEndTime, CacheLoaderMonitor monitor)
+    {
+        List<MithraRuntimeCacheController> snapshotControllers = this.getSnapshotClassControllers();
+        List<Callable<Long>> readers = FastList.newList(snapshotControllers.size());
+        for (final MithraRuntimeCacheController each : snapshotControllers)
+        {
+            readers.add(new Callable<Long>()
+            {
+                public Long call() throws Exception
+                {
+                    File snapshotFile = getSnapshotFile(snapshotDirectory, each);
+                    if (!snapshotFile.exists())
+                    {
+                        logger.info("No cache snapshot for " + each.getClassName() + " in " + snapshotDirectory);
+                        return 0L;
+                    }
+                    return each.readCacheSnapshot(snapshotFile);
+                }
+            });
+        }
+        List<Future<Long>> results = this.runInParallel(readers);
+
+        UnifiedSet<String> restoredClasses = UnifiedSet.newSet();
+        long refreshStart = Long.MAX_VALUE;
+        for (int i = 0; i < results.size(); i++)
+        {
+            MithraRuntimeCacheController controller = snapshotControllers.get(i);
+            try
+            {
+                long snapshotTime = results.get(i).get();
+                if (snapshotTime != 0)
+                {
+                    restoredClasses.add(controller.getClassName());
+                    refreshStart = Math.min(refreshStart, snapshotTime);
+                }
+            }
+            catch (Exception e)
+            {
+                logger.warn("Could not read cache snapshot for " + controller.getClassName() + ", loading it from the database",
+                        e instanceof ExecutionException ? e.getCause() : e);
+            }
+        }
+
+        Map<String, AdditionalOperationBuilder> classesToLoad = UnifiedMap.newMap();
+        for (LoaderFactory each : this.getAllLoaderFactories())
+        {
+            if (!restoredClasses.contains(each.getClassToLoad()))
+            {
+                classesToLoad.put(each.getClassToLoad(), null);
+            }
+        }
+        if (!classesToLoad.isEmpty())
+        {
+            CacheLoaderContext context = new CacheLoaderContext(this, businessDates);
+            context.setInitialLoadEndTime(loadEndTime);
+            context.setQualifiedLoadContext(new QualifiedByOperationLoadContext(classesToLoad, false));
+            context.execute(monitor);
+        }
+        if (refreshStart != Long.MAX_VALUE)
+        {
+            // refreshing a class that was just loaded up to loadEndTime only re-applies rows it already has
+            CacheLoaderContext context = new CacheLoaderContext(this, businessDates);
+            context.setRefreshInterval(new RefreshInterval(new Timestamp(refreshStart), loadEndTime));
+            context.execute(monitor);
+        }
+        this.stampLatestRefreshTime(loadEndTime);
+    }
+
+    /**
+     * Writes cache snapshots into the directory every periodMillis from a daemon thread and, if writeOnShutdown is set,
+     * once more from a shutdown hook. Replaces any schedule started before.
+     */
+    public synchronized void scheduleCacheSnapshots(final File snapshotDirectory, long periodMillis, boolean writeOnShutdown)
+    {
+        this.stopCacheSnapshots();
+        Runnable writer = new Runnable()
+        {
+            public void run()
+            {
+                try
+                {
+                    writeCacheSnapshots(snapshotDirectory);
+                }
+                catch (RuntimeException e)
+                {
+                    logger.error("Scheduled cache snapshot failed", e);
+                }
+            }
+        };
+        if (periodMillis > 0)
+        {
+            this.snapshotDaemon = Executors.newScheduledThreadPool(1, new ThreadFactory()
+            {
+                public Thread newThread(Runnable r)
+                {
+                    Thread t = new Thread(r);
+                    t.setDaemon(true);
+                    t.setName("Mithra Cache Snapshot Writer");
+                    return t;
+                }
+            });
+            this.snapshotDaemon.scheduleWithFixedDelay(writer, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+        if (writeOnShutdown)
+        {
+            this.snapshotShutdownHook = new Thread(writer, "Mithra Cache Snapshot Shutdown Writer");
+            Runtime.getRuntime().addShutdownHook(this.snapshotShutdownHook);
+        }
+    }
+
+    public synchronized void stopCacheSnapshots()
+    {
+        if (this.snapshotDaemon != null)
+        {
+            this.snapshotDaemon.shutdown();
+            this.snapshotDaemon = null;
+        }
+        if (this.snapshotShutdownHook != null)
+        {
+            Runtime.getRuntime().removeShutdownHook(this.snapshotShutdownHook);
+            this.snapshotShutdownHook = null;
+        }
+    }
+
+    private static File getSnapshotFile(File snapshotDirectory, MithraRuntimeCacheController controller)
+    {
+        return new File(snapshotDirectory, controller.getClassName() + CACHE_SNAPSHOT_SUFFIX);
+    }
+
+    private List<LoaderFactory> getAllLoaderFactories()
+    {
+        List<LoaderFactory> result = FastList.<LoaderFactory>newList(this.topLevelLoaderFactories);
+        result.addAll(this.dependentSetLoaderFactories);
+        return result;
+    }
+
+    /**
+     * only classes with a processing date can be caught up with the database after a snapshot is read
+     */
+    private List<MithraRuntimeCacheController> getSnapshotClassControllers()
+    {
+        UnifiedSet<MithraRuntimeCacheController> seen = UnifiedSet.newSet();
+        List<MithraRuntimeCacheController> result = FastList.newList();
+        for (LoaderFactory each : this.getAllLoaderFactories())
+        {
+            MithraRuntimeCacheController controller = each.getClassController();
+            if (!controller.isPartialCache() && hasProcessingDate(controller) && seen.add(controller))
+            {
+                result.add(controller);
+            }
+        }
+        return result;
+    }
+
+    private static boolean hasProcessingDate(MithraRuntimeCacheController controller)
+    {
+        AsOfAttribute[] asOfAttributes = controller.getFinderInstance().getAsOfAttributes();
+        if (asOfAttributes != null)
+        {
+            for (AsOfAttribute each : asOfAttributes)
+            {
+                if (each.isProcessingDate())
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<Future<Long>> runInParallel(List<Callable<Long>> tasks)
+    {
+        if (tasks.isEmpty())
+        {
+            return FastList.newList();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()), new ThreadFactory()
+        {
+            public Thread newThread(Runnable r)
+            {
+                Thread t = new Thread(r);
+                t.setDaemon(true);
+                t.setName("Mithra Cache Snapshot Worker");
+                return t;
+            }
+        });
+        try
+        {
+            return executor.invokeAll(tasks);
+        }
+        catch (InterruptedException e)
+        {
+            throw new MithraBusinessException("Interrupted while processing cache snapshots", e);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
     public void loadConfiguration(InputStream configFile)
     {
         CacheLoaderConfig config = new CacheLoaderConfig();
@@ -187,4 +460,103 @@ public final class CacheLoaderManagerImpl implements CacheLoaderManager
     {
         engine.setConfigValues(this.configValues);
     }
+
+    protected void zSetCurrentProgress(CacheLoaderProgress progress)
+    {
+        this.currentProgress = progress;
+    }
+
+    /**
+     * @return the progress of the running load, or of the last load if none is running. Null before the first load.
+     */
+    public CacheLoaderProgress getProgress()
+    {
+        return this.currentProgress;
+    }
+
+    /**
+     * registers a {@link CacheLoaderProgressMBean} for this manager with the platform MBean server.
+     *
+     * @param objectName for example "com.gs.fw.common.mithra.cacheloader:type=CacheLoaderProgress"
+     */
+    public void registerProgressMBean(String objectName)
+    {
+        try
+        {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(objectName);
+            if (server.isRegistered(name))
+            {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new StandardMBean(new ProgressMBean(), CacheLoaderProgressMBean.class), name);
+        }
+        catch (Exception e)
+        {
+            throw new MithraBusinessException("could not register cache loader progress MBean " + objectName, e);
+        }
+    }
+
+    private class ProgressMBean implements CacheLoaderProgressMBean
+    {
+        private CacheLoaderProgress.Snapshot snapshot()
+        {
+            CacheLoaderProgress progress = currentProgress;
+            return progress == null ? null : progress.snapshot();
+        }
+
+        public boolean isLoading()
+        {
+            CacheLoaderProgress progress = currentProgress;
+            return progress != null && !progress.isFinished();
+        }
+
+        public long getElapsedMillis()
+        {
+            CacheLoaderProgress progress = currentProgress;
+            return progress == null ? 0L : progress.getElapsedMillis();
+        }
+
+        public int getTaskCount()
+        {
+            CacheLoaderProgress.Snapshot snapshot = this.snapshot();
+            return snapshot == null ? 0 : snapshot.getTaskCount();
+        }
+
+        public int getFinishedTaskCount()
+        {
+            CacheLoaderProgress.Snapshot snapshot = this.snapshot();
+            return snapshot == null ? 0 : snapshot.getFinishedTaskCount();
+        }
+
+        public long getLoadedRows()
+        {
+            CacheLoaderProgress.Snapshot snapshot = this.snapshot();
+            return snapshot == null ? 0L : snapshot.getLoadedRows();
+        }
+
+        public double getRowsPerSecond()
+        {
+            CacheLoaderProgress.Snapshot snapshot = this.snapshot();
+            return snapshot == null ? 0.0 : snapshot.getRowsPerSecond();
+        }
+
+        public long getCriticalPathMillis()
+        {
+            CacheLoaderProgress.Snapshot snapshot = this.snapshot();
+            return snapshot == null ? 0L : snapshot.getCriticalPathMillis();
+        }
+
+        public long getEstimatedRemainingMillis()
+        {
+            CacheLoaderProgress.Snapshot snapshot = this.snapshot();
+            return snapshot == null ? 0L : snapshot.getEstimatedRemainingMillis();
+        }
+
+        public String getProgressAsJson()
+        {
+            CacheLoaderProgress.Snapshot snapshot = this.snapshot();
+            return snapshot == null ? "{}" : snapshot.toJson();
+        }
+    }
 }
@@ -29,6 +29,7 @@ public class CacheLoaderMonitor
     private Throwable exception;
     private List<LoadingTaskThreadPoolMonitor> threadPoolMonitors;
     private Exception lastLoadingException = null;
+    private CacheLoaderProgress progress;
 
     public void setCacheLoaderContext(CacheLoaderContext cacheLoaderContext)
     {
@@ -56,6 +57,19 @@ public class CacheLoaderMonitor
         this.threadPoolMonitors = FastList.newList();
     }
 
+    public void setProgress(CacheLoaderProgress progress)
+    {
+        this.progress = progress;
+    }
+
+    /**
+     * @return per class and per pool timings of the load this monitor was last updated from, or null
+     */
+    public CacheLoaderProgress getProgress()
+    {
+        return this.progress;
+    }
+
     public void addLoadingTaskMonitor(LoadingTaskMonitor taskMonitor)
     {
         this.loadingTaskStates.add(taskMonitor);
@@ -0,0 +1,573 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cacheloader;
+
+
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live view of a cache load: per class stage timings, rows and off-heap bytes, per pool queue depths and an estimate
+ * of the critical path and the remaining time. Every call computes a fresh snapshot from the task monitors, so it can
+ * be polled from another thread (or over JMX, see {@link CacheLoaderProgressMBean}) while the load is running.
+ * <p>
+ * The estimate assumes a task that has not finished takes as long as the finished tasks of the same class did on
+ * average. The critical path is the chain of prerequisites with the latest estimated finish; the remaining time is
+ * the longer of that chain and the queued work of the busiest pool spread over its threads.
+ */
+public class CacheLoaderProgress
+{
+    private final CacheLoaderEngine engine;
+    private final List<LoadingTaskMonitor> taskMonitors = FastList.newList();
+    private volatile long loadStartTime;
+    private volatile long loadFinishTime;
+
+    public CacheLoaderProgress(CacheLoaderEngine engine)
+    {
+        this.engine = engine;
+    }
+
+    protected void addTask(LoadingTaskMonitor monitor)
+    {
+        synchronized (this.taskMonitors)
+        {
+            this.taskMonitors.add(monitor);
+        }
+    }
+
+    protected void markStarted()
+    {
+        this.loadStartTime = System.currentTimeMillis();
+    }
+
+    protected void markFinished()
+    {
+        this.loadFinishTime = System.currentTimeMillis();
+    }
+
+    public boolean isFinished()
+    {
+        return this.loadFinishTime != 0L;
+    }
+
+    public long getElapsedMillis()
+    {
+        if (this.loadStartTime == 0L)
+        {
+            return 0L;
+        }
+        return (this.isFinished() ? this.loadFinishTime : System.currentTimeMillis()) - this.loadStartTime;
+    }
+
+    public Snapshot snapshot()
+    {
+        List<LoadingTaskMonitor> monitors;
+        synchronized (this.taskMonitors)
+        {
+            monitors = FastList.newList(this.taskMonitors);
+        }
+        return new Snapshot(monitors, this.engine.getThreadPoolMonitors(), this.getElapsedMillis(), this.isFinished());
+    }
+
+    public String toJson()
+    {
+        return this.snapshot().toJson();
+    }
+
+    public String toString()
+    {
+        return this.toJson();
+    }
+
+    private int getThreadsPerPool()
+    {
+        ConfigValues configValues = this.engine.getConfigValues();
+        return configValues == null ? 1 : Math.max(1, configValues.getThreadsPerDbServer());
+    }
+
+    public class Snapshot
+    {
+        private final long now = System.currentTimeMillis();
+        private final long elapsedMillis;
+        private final boolean finished;
+        private final List<LoadingTaskThreadPoolMonitor> pools;
+        private final Map<String, ClassProgress> classes = UnifiedMap.newMap();
+        private final Map<String, PoolWork> poolWork = UnifiedMap.newMap();
+        private final Map<LoadingTaskMonitor, Long> estimatedFinish = new IdentityHashMap<LoadingTaskMonitor, Long>();
+        private final Map<LoadingTaskMonitor, LoadingTaskMonitor> criticalPredecessor = new IdentityHashMap<LoadingTaskMonitor, LoadingTaskMonitor>();
+        private int waitingTasks;
+        private int runningTasks;
+        private int finishedTasks;
+        private int failedTasks;
+        private long rows;
+        private long averageTaskMillis;
+        private long criticalPathMillis;
+        private List<String> criticalPath = Collections.emptyList();
+        private long estimatedRemainingMillis;
+
+        private Snapshot(List<LoadingTaskMonitor> monitors, List<LoadingTaskThreadPoolMonitor> pools, long elapsedMillis, boolean finished)
+        {
+            this.pools = pools;
+            this.elapsedMillis = elapsedMillis;
+            this.finished = finished;
+            this.aggregate(monitors);
+            this.estimate(monitors);
+        }
+
+        private void aggregate(List<LoadingTaskMonitor> monitors)
+        {
+            long finishedMillis = 0;
+            for (int i = 0; i < monitors.size(); i++)
+            {
+                LoadingTaskMonitor monitor = monitors.get(i);
+                ClassProgress classProgress = this.getOrCreateClassProgress(monitor.getClassToLoad());
+                classProgress.tasks++;
+                if (monitor.isFinished())
+                {
+                    this.finishedTasks++;
+                    if (monitor.getState() == LoadingTaskRunner.State.FAILED)
+                    {
+                        this.failedTasks++;
+                    }
+                    long taskMillis = monitor.getFinishTime() - monitor.getStartTime();
+                    int loadedSize = Math.max(0, monitor.getLoadedSize());
+                    this.rows += loadedSize;
+                    finishedMillis += taskMillis;
+                    classProgress.addFinishedTask(monitor, taskMillis, loadedSize);
+                    this.getOrCreatePoolWork(monitor.getThreadPoolName()).addFinishedTask(taskMillis, loadedSize);
+                }
+                else if (monitor.getStartTime() != 0L)
+                {
+                    this.runningTasks++;
+                }
+                else
+                {
+                    this.waitingTasks++;
+                }
+            }
+            int successful = this.finishedTasks - this.failedTasks;
+            this.averageTaskMillis = successful == 0 ? 0L : finishedMillis / successful;
+            this.addOffHeapBytes();
+        }
+
+        private void addOffHeapBytes()
+        {
+            if (this.classes.isEmpty())
+            {
+                return;
+            }
+            for (MithraRuntimeCacheController controller : MithraManagerProvider.getMithraManager().getRuntimeCacheControllerSet())
+            {
+                ClassProgress classProgress = this.classes.get(controller.getClassName());
+                if (classProgress != null)
+                {
+                    classProgress.offHeapBytes = controller.getOffHeapUsedDataSize();
+                }
+            }
+        }
+
+        private void estimate(List<LoadingTaskMonitor> monitors)
+        {
+            long criticalEnd = this.now;
+            LoadingTaskMonitor last = null;
+            for (int i = 0; i < monitors.size(); i++)
+            {
+                LoadingTaskMonitor monitor = monitors.get(i);
+                long finish = this.estimateFinish(monitor);
+                if (last == null || finish > criticalEnd)
+                {
+                    criticalEnd = finish;
+                    last = monitor;
+                }
+                if (!monitor.isFinished())
+                {
+                    long remaining = monitor.getStartTime() == 0L
+                            ? this.estimateTaskMillis(monitor)
+                            : Math.max(0L, monitor.getStartTime() + this.estimateTaskMillis(monitor) - this.now);
+                    this.getOrCreatePoolWork(monitor.getThreadPoolName()).remainingMillis += remaining;
+                }
+            }
+            if (last != null)
+            {
+                long pathStart = loadStartTime == 0L ? this.now : loadStartTime;
+                this.criticalPathMillis = Math.max(0L, criticalEnd - pathStart);
+                List<String> path = FastList.newList();
+                for (LoadingTaskMonitor each = last; each != null; each = this.criticalPredecessor.get(each))
+                {
+                    path.add(0, each.getClassToLoad());
+                }
+                this.criticalPath = path;
+            }
+
+            long poolEnd = this.now;
+            int threads = getThreadsPerPool();
+            for (int i = 0; i < this.pools.size(); i++)
+            {
+                LoadingTaskThreadPoolMonitor pool = this.pools.get(i);
+                PoolWork work = this.getOrCreatePoolWork(pool.getPoolName());
+                // keys waiting in dependent key indices turn into tasks later; cost them at the pool's time per row
+                long remaining = work.remainingMillis + (long) (pool.getIndexSize() * work.getMillisPerRow());
+                poolEnd = Math.max(poolEnd, this.now + remaining / threads);
+            }
+            this.estimatedRemainingMillis = Math.max(criticalEnd, poolEnd) - this.now;
+        }
+
+        private long estimateFinish(LoadingTaskMonitor monitor)
+        {
+            Long known = this.estimatedFinish.get(monitor);
+            if (known != null)
+            {
+                return known.longValue();
+            }
+            this.estimatedFinish.put(monitor, Long.valueOf(this.now)); // guards against a cycle in the prerequisites
+            long finish;
+            if (monitor.isFinished())
+            {
+                finish = monitor.getFinishTime();
+            }
+            else if (monitor.getStartTime() != 0L)
+            {
+                finish = Math.max(this.now, monitor.getStartTime() + this.estimateTaskMillis(monitor));
+            }
+            else
+            {
+                long ready = this.now;
+                List<LoadingTaskMonitor> prerequisites = monitor.getPrerequisites();
+                for (int i = 0; i < prerequisites.size(); i++)
+                {
+                    LoadingTaskMonitor prerequisite = prerequisites.get(i);
+                    long prerequisiteFinish = this.estimateFinish(prerequisite);
+                    if (prerequisiteFinish > ready || this.criticalPredecessor.get(monitor) == null)
+                    {
+                        ready = Math.max(ready, prerequisiteFinish);
+                        this.criticalPredecessor.put(monitor, prerequisite);
+                    }
+                }
+                finish = ready + this.estimateTaskMillis(monitor);
+            }
+            this.estimatedFinish.put(monitor, Long.valueOf(finish));
+            return finish;
+        }
+
+        private long estimateTaskMillis(LoadingTaskMonitor monitor)
+        {
+            ClassProgress classProgress = this.classes.get(monitor.getClassToLoad());
+            if (classProgress != null && classProgress.successfulTasks > 0)
+            {
+                return classProgress.taskMillis / classProgress.successfulTasks;
+            }
+            return this.averageTaskMillis;
+        }
+
+        private ClassProgress getOrCreateClassProgress(String className)
+        {
+            ClassProgress result = this.classes.get(className);
+            if (result == null)
+            {
+                result = new ClassProgress(className);
+                this.classes.put(className, result);
+            }
+            return result;
+        }
+
+        private PoolWork getOrCreatePoolWork(String poolName)
+        {
+            PoolWork result = this.poolWork.get(poolName);
+            if (result == null)
+            {
+                result = new PoolWork();
+                this.poolWork.put(poolName, result);
+            }
+            return result;
+        }
+
+        public long getElapsedMillis()
+        {
+            return this.elapsedMillis;
+        }
+
+        public boolean isFinished()
+        {
+            return this.finished;
+        }
+
+        public int getTaskCount()
+        {
+            return this.waitingTasks + this.runningTasks + this.finishedTasks;
+        }
+
+        public int getWaitingTaskCount()
+        {
+            return this.waitingTasks;
+        }
+
+        public int getRunningTaskCount()
+        {
+            return this.runningTasks;
+        }
+
+        public int getFinishedTaskCount()
+        {
+            return this.finishedTasks;
+        }
+
+        public int getFailedTaskCount()
+        {
+            return this.failedTasks;
+        }
+
+        public long getLoadedRows()
+        {
+            return this.rows;
+        }
+
+        public double getRowsPerSecond()
+        {
+            return this.elapsedMillis == 0L ? 0.0 : this.rows * 1000.0 / this.elapsedMillis;
+        }
+
+        public long getCriticalPathMillis()
+        {
+            return this.criticalPathMillis;
+        }
+
+        /**
+         * @return class names along the critical path, from the first prerequisite to the last task to finish
+         */
+        public List<String> getCriticalPath()
+        {
+            return this.criticalPath;
+        }
+
+        public long getEstimatedRemainingMillis()
+        {
+            return this.estimatedRemainingMillis;
+        }
+
+        public ClassProgress getClassProgress(String className)
+        {
+            return this.classes.get(className);
+        }
+
+        public List<ClassProgress> getClassProgress()
+        {
+            return FastList.newList(this.classes.values());
+        }
+
+        public List<LoadingTaskThreadPoolMonitor> getThreadPoolMonitors()
+        {
+            return this.pools;
+        }
+
+        public String toJson()
+        {
+            StringBuilder builder = new StringBuilder(256 + this.classes.size() * 256);
+            builder.append("{\"elapsedMillis\":").append(this.elapsedMillis);
+            builder.append(",\"finished\":").append(this.finished);
+            builder.append(",\"tasks\":{\"total\":").append(this.getTaskCount());
+            builder.append(",\"waiting\":").append(this.waitingTasks);
+            builder.append(",\"running\":").append(this.runningTasks);
+            builder.append(",\"finished\":").append(this.finishedTasks);
+            builder.append(",\"failed\":").append(this.failedTasks).append('}');
+            builder.append(",\"rows\":").append(this.rows);
+            builder.append(",\"rowsPerSecond\":").append(Math.round(this.getRowsPerSecond()));
+            builder.append(",\"criticalPathMillis\":").append(this.criticalPathMillis);
+            builder.append(",\"estimatedRemainingMillis\":").append(this.estimatedRemainingMillis);
+            builder.append(",\"criticalPath\":[");
+            for (int i = 0; i < this.criticalPath.size(); i++)
+            {
+                if (i > 0) builder.append(',');
+                appendString(builder, this.criticalPath.get(i));
+            }
+            builder.append("],\"classes\":[");
+            boolean first = true;
+            for (ClassProgress each : this.classes.values())
+            {
+                if (!first) builder.append(',');
+                first = false;
+                each.appendJson(builder);
+            }
+            builder.append("],\"pools\":[");
+            for (int i = 0; i < this.pools.size(); i++)
+            {
+                if (i > 0) builder.append(',');
+                LoadingTaskThreadPoolMonitor pool = this.pools.get(i);
+                builder.append("{\"name\":");
+                appendString(builder, pool.getPoolName());
+                builder.append(",\"busyIOThreads\":").append(pool.getBusyIOThreads());
+                builder.append(",\"ioTaskQueue\":").append(pool.getIoTaskQueue());
+                builder.append(",\"cpuTaskQueue\":").append(pool.getCpuTaskQueue());
+                builder.append(",\"dependentKeyIndices\":").append(pool.getDependentKeyIndices());
+                builder.append(",\"pendingDependentKeys\":").append(pool.getIndexSize());
+                builder.append(",\"waitedForSyslog\":").append(pool.getWaitedForSyslog()).append('}');
+            }
+            builder.append("]}");
+            return builder.toString();
+        }
+    }
+
+    public static class ClassProgress
+    {
+        private final String className;
+        private int tasks;
+        private int successfulTasks;
+        private long rows;
+        private long taskMillis;
+        private long queryNanos;
+        private long fetchNanos;
+        private long inflateNanos;
+        private long indexNanos;
+        private long offHeapBytes;
+
+        private ClassProgress(String className)
+        {
+            this.className = className;
+        }
+
+        private void addFinishedTask(LoadingTaskMonitor monitor, long taskMillis, int loadedSize)
+        {
+            if (monitor.getState() != LoadingTaskRunner.State.FAILED)
+            {
+                this.successfulTasks++;
+                this.taskMillis += taskMillis;
+            }
+            this.rows += loadedSize;
+            this.queryNanos += monitor.getQueryNanos();
+            this.fetchNanos += monitor.getFetchNanos();
+            this.inflateNanos += monitor.getInflateNanos();
+            this.indexNanos += monitor.getIndexNanos();
+        }
+
+        public String getClassName()
+        {
+            return this.className;
+        }
+
+        public int getTaskCount()
+        {
+            return this.tasks;
+        }
+
+        public long getRows()
+        {
+            return this.rows;
+        }
+
+        /**
+         * sum of the durations of the successful tasks, which may run in parallel
+         */
+        public long getTaskMillis()
+        {
+            return this.taskMillis;
+        }
+
+        public long getQueryNanos()
+        {
+            return this.queryNanos;
+        }
+
+        public long getFetchNanos()
+        {
+            return this.fetchNanos;
+        }
+
+        public long getInflateNanos()
+        {
+            return this.inflateNanos;
+        }
+
+        public long getIndexNanos()
+        {
+            return this.indexNanos;
+        }
+
+        /**
+         * @return the off-heap data size of the class, zero for on-heap caches
+         */
+        public long getOffHeapBytes()
+        {
+            return this.offHeapBytes;
+        }
+
+        public double getRowsPerSecond()
+        {
+            return this.taskMillis == 0L ? 0.0 : this.rows * 1000.0 / this.taskMillis;
+        }
+
+        private void appendJson(StringBuilder builder)
+        {
+            builder.append("{\"className\":");
+            appendString(builder, this.className);
+            builder.append(",\"tasks\":").append(this.tasks);
+            builder.append(",\"rows\":").append(this.rows);
+            builder.append(",\"offHeapBytes\":").append(this.offHeapBytes);
+            builder.append(",\"taskMillis\":").append(this.taskMillis);
+            builder.append(",\"queryMillis\":").append(this.queryNanos / 1000000);
+            builder.append(",\"fetchMillis\":").append(this.fetchNanos / 1000000);
+            builder.append(",\"inflateMillis\":").append(this.inflateNanos / 1000000);
+            builder.append(",\"indexMillis\":").append(this.indexNanos / 1000000);
+            builder.append(",\"rowsPerSecond\":").append(Math.round(this.getRowsPerSecond())).append('}');
+        }
+    }
+
+    private static class PoolWork
+    {
+        private long finishedMillis;
+        private long finishedRows;
+        private long remainingMillis;
+
+        private void addFinishedTask(long taskMillis, int loadedSize)
+        {
+            this.finishedMillis += taskMillis;
+            this.finishedRows += loadedSize;
+        }
+
+        private double getMillisPerRow()
+        {
+            return this.finishedRows == 0L ? 0.0 : ((double) this.finishedMillis) / this.finishedRows;
+        }
+    }
+
+    private static void appendString(StringBuilder builder, String value)
+    {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\')
+            {
+                builder.append('\\').append(c);
+            }
+            else if (c < 0x20)
+            {
+                builder.append(String.format("\\u%04x", (int) c));
+            }
+            else
+            {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+}
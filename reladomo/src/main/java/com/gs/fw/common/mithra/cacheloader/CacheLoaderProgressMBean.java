@@ -0,0 +1,43 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cacheloader;
+
+
+/**
+ * JMX view of the most recent load run by a {@link CacheLoaderManagerImpl}.
+ * See {@link CacheLoaderManagerImpl#registerProgressMBean(String)}.
+ */
+public interface CacheLoaderProgressMBean
+{
+    public boolean isLoading();
+
+    public long getElapsedMillis();
+
+    public int getTaskCount();
+
+    public int getFinishedTaskCount();
+
+    public long getLoadedRows();
+
+    public double getRowsPerSecond();
+
+    public long getCriticalPathMillis();
+
+    public long getEstimatedRemainingMillis();
+
+    public String getProgressAsJson();
+}
@@ -0,0 +1,40 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cacheloader;
+
+
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+
+/**
+ * Source of the rows changed between two refreshes. A top level loader with a change feed refreshes by renewing only
+ * the rows it reports, so the cost of a refresh follows the number of changes instead of the size of the table.
+ * Configure it on a {@link NonMilestonedTopLevelLoaderFactory} with a "changeFeed" parameter naming the implementation,
+ * or use {@link ChangeLogFeed} through the "changeLogClass" parameter.
+ */
+public interface ChangeFeed
+{
+    /**
+     * @param classToLoad     the class being refreshed
+     * @param finder          the finder of the class being refreshed
+     * @param sourceAttribute the source attribute being refreshed, or null
+     * @param refreshInterval the processing time interval of the refresh
+     * @return an operation on the refreshed class matching every row inserted, updated or deleted in the interval,
+     * typically an in-clause on the primary key. Null if nothing changed.
+     */
+    public Operation getChangedRowsOperation(String classToLoad, RelatedFinder finder, Object sourceAttribute, RefreshInterval refreshInterval);
+}
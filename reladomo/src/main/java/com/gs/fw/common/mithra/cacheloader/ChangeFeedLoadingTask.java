@@ -0,0 +1,114 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cacheloader;
+
+
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
+import com.gs.fw.common.mithra.util.RenewedCacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Refreshes the rows reported by a {@link ChangeFeed}: they are re-read from the database and inserted, updated or
+ * removed in the cache (see {@link MithraRuntimeCacheController#renewCacheForOperation}). Inserted and updated rows
+ * are passed on to the dependent loaders, like the rows read by a regular refresh.
+ */
+public class ChangeFeedLoadingTask extends LoadingTaskImpl
+{
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedLoadingTask.class);
+
+    private final ChangeFeed changeFeed;
+    private final RefreshInterval refreshInterval;
+    private final Operation sourceAttributeOperation;
+    private int deletedCount;
+
+    public ChangeFeedLoadingTask(MithraRuntimeCacheController mithraController, ChangeFeed changeFeed, RefreshInterval refreshInterval, Operation sourceAttributeOperation)
+    {
+        super(mithraController, null, null, null);
+        this.changeFeed = changeFeed;
+        this.refreshInterval = refreshInterval;
+        this.sourceAttributeOperation = sourceAttributeOperation;
+    }
+
+    @Override
+    public int load()
+    {
+        MithraRuntimeCacheController controller = this.getMithraController();
+        Operation changedRows = this.changeFeed.getChangedRowsOperation(this.getClassName(), controller.getFinderInstance(), this.getSourceAttribute(), this.refreshInterval);
+        if (changedRows == null)
+        {
+            this.dereference();
+            return 0;
+        }
+
+        this.checkAndWaitForSyslog();
+
+        RenewedCacheStats stats;
+        synchronized (controller.getMithraObjectPortal()) // renewals of the same class, e.g. for other source attributes, can't overlap
+        {
+            stats = controller.renewCacheForOperation(this.sourceAttributeOperation.and(changedRows));
+        }
+        if (stats == RenewedCacheStats.EMPTY_STATS)
+        {
+            throw new RuntimeException("Could not refresh " + this.getClassName() + " while its cache is being reloaded");
+        }
+
+        try
+        {
+            this.putAllOnDependentQueues(stats.getInserted());
+            this.putAllOnDependentQueues(stats.getUpdated());
+        }
+        finally
+        {
+            this.finishDependentQueues();
+        }
+        this.deletedCount = stats.getDeleted().size();
+        if (logger.isDebugEnabled())
+        {
+            logger.debug("Refreshed " + this + " from change feed: " + stats);
+        }
+
+        this.dereference();
+        return stats.getInserted().size() + stats.getUpdated().size();
+    }
+
+    private void putAllOnDependentQueues(List changed)
+    {
+        for (int i = 0; i < changed.size(); i++)
+        {
+            this.putOnDependentQueues((MithraDataObject) changed.get(i));
+        }
+    }
+
+    /**
+     * @return the number of rows removed from the cache by the last load
+     */
+    public int getDeletedCount()
+    {
+        return this.deletedCount;
+    }
+
+    @Override
+    public String getOperationAsString()
+    {
+        return "changes to " + this.getClassName() + " in " + this.refreshInterval;
+    }
+}
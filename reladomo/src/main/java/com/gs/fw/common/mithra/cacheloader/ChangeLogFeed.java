@@ -0,0 +1,103 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cacheloader;
+
+
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
+import com.gs.fw.common.mithra.attribute.TimestampAttribute;
+import com.gs.fw.common.mithra.attribute.TupleAttribute;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+
+/**
+ * Reads changes from a change log class, for example an audit or transaction table filled by triggers or by the
+ * application. Every change log row records the primary key of a changed row, under the same attribute names as
+ * the refreshed class, and the time of the change. A change log shared by several classes also needs a string
+ * attribute holding the name of the changed class.
+ * <p>
+ * Parameters on the top level loader:
+ * <ul>
+ * <li>changeLogClass: the change log class name</li>
+ * <li>changeLogTimeAttribute: the timestamp attribute holding the change time</li>
+ * <li>changeLogClassNameAttribute: optional, the attribute holding the changed class name</li>
+ * </ul>
+ */
+public class ChangeLogFeed implements ChangeFeed
+{
+    private final RelatedFinder changeLogFinder;
+    private final TimestampAttribute timeAttribute;
+    private final StringAttribute classNameAttribute;
+
+    public ChangeLogFeed(String changeLogClass, String timeAttributeName, String classNameAttributeName)
+    {
+        this.changeLogFinder = CacheLoaderConfig.createRuntimeCacheController(changeLogClass).getFinderInstance();
+        this.timeAttribute = (TimestampAttribute) this.getChangeLogAttribute(timeAttributeName);
+        this.classNameAttribute = classNameAttributeName == null ? null : (StringAttribute) this.getChangeLogAttribute(classNameAttributeName);
+    }
+
+    private Attribute getChangeLogAttribute(String name)
+    {
+        Attribute attribute = this.changeLogFinder.getAttributeByName(name);
+        if (attribute == null)
+        {
+            throw new RuntimeException("Change log " + this.changeLogFinder.getFinderClassName() + " has no attribute " + name);
+        }
+        return attribute;
+    }
+
+    public Operation getChangedRowsOperation(String classToLoad, RelatedFinder finder, Object sourceAttribute, RefreshInterval refreshInterval)
+    {
+        Operation changesOp = this.timeAttribute.greaterThanEquals(refreshInterval.getStart())
+                .and(this.timeAttribute.lessThanEquals(refreshInterval.getEnd()));
+        if (this.classNameAttribute != null)
+        {
+            changesOp = changesOp.and(this.classNameAttribute.eq(classToLoad));
+        }
+        Attribute changeLogSourceAttribute = this.changeLogFinder.getSourceAttribute();
+        if (changeLogSourceAttribute != null && CacheLoaderConfig.isSourceAttribute(sourceAttribute))
+        {
+            changesOp = changesOp.and(changeLogSourceAttribute.nonPrimitiveEq(sourceAttribute));
+        }
+
+        MithraList changes = this.changeLogFinder.findMany(changesOp);
+        changes.setBypassCache(true);
+        if (changes.isEmpty())
+        {
+            return null;
+        }
+
+        Attribute[] keyAttributes = finder.getPrimaryKeyAttributes();
+        Extractor[] changeLogKeys = new Extractor[keyAttributes.length];
+        for (int i = 0; i < keyAttributes.length; i++)
+        {
+            changeLogKeys[i] = this.getChangeLogAttribute(keyAttributes[i].getAttributeName());
+        }
+        if (keyAttributes.length == 1)
+        {
+            return keyAttributes[0].in(changes, changeLogKeys[0]);
+        }
+        TupleAttribute tupleAttribute = keyAttributes[0].tupleWith(keyAttributes[1]);
+        for (int i = 2; i < keyAttributes.length; i++)
+        {
+            tupleAttribute = tupleAttribute.tupleWith(keyAttributes[i]);
+        }
+        return tupleAttribute.in(changes, changeLogKeys);
+    }
+}
@@ -26,6 +26,7 @@ public class ConfigValues
     private int threadsPerDbServer = 10;  // threads
     private double syslogCheckThreshold = 45.0;  // percent
     private long syslogCheckMaxWait = 1200 * 1000; // milliseconds
+    private boolean workStealing = false;
 
     public ConfigValues()
     {
@@ -44,6 +45,15 @@ public class ConfigValues
         this.syslogCheckMaxWait = syslogCheckMaxWait * 1000L;
     }
 
+    public ConfigValues(
+            int reportedSlowSQLSec, int reportedSlowSQLPerRowSec, boolean captureLoadingTaskDetails,
+            int threadsPerDbServer, double syslogCheckThreshold, long syslogCheckMaxWait, boolean workStealing
+    )
+    {
+        this(reportedSlowSQLSec, reportedSlowSQLPerRowSec, captureLoadingTaskDetails, threadsPerDbServer, syslogCheckThreshold, syslogCheckMaxWait);
+        this.workStealing = workStealing;
+    }
+
     public long getReportedSlowSQLTime()
     {
         return reportedSlowSQLTime;
@@ -78,4 +88,12 @@ public class ConfigValues
     {
         return syslogCheckMaxWait;
     }
+
+    /**
+     * @return true if all thread pools share one set of worker threads, see {@link WorkStealingLoadingScheduler}
+     */
+    public boolean isWorkStealing()
+    {
+        return workStealing;
+    }
 }
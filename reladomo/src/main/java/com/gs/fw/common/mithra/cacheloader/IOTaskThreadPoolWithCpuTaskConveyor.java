@@ -21,7 +21,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.LinkedBlockingQueue;
 
-public class IOTaskThreadPoolWithCpuTaskConveyor implements Runnable
+public class IOTaskThreadPoolWithCpuTaskConveyor implements Runnable, LoadingTaskThreadPool
 {
     private volatile boolean stopped = false;
     private final BlockingQueue<Callable> cpuTaskQueue = new LinkedBlockingQueue<Callable>();
@@ -18,6 +18,7 @@
 package com.gs.fw.common.mithra.cacheloader;
 
 
+import com.gs.fw.common.mithra.MithraDataObject;
 import com.gs.fw.common.mithra.MithraDatabaseObject;
 import com.gs.fw.common.mithra.MithraObject;
 import com.gs.fw.common.mithra.MithraObjectDeserializer;
@@ -83,6 +84,11 @@ public class LoadingTaskImpl implements LoadingTask
         return this.mithraController.getClassName();
     }
 
+    protected MithraRuntimeCacheController getMithraController()
+    {
+        return this.mithraController;
+    }
+
     public int load()
     {
         Operation loadOperation = this.loadOperationBuilder.build(this.sourceAttribute);
@@ -128,6 +134,11 @@ public class LoadingTaskImpl implements LoadingTask
     }
 
     public void putOnDependentQueues(MithraObject keyHolder)
+    {
+        this.putOnDependentQueues(keyHolder.zGetCurrentData());
+    }
+
+    protected void putOnDependentQueues(MithraDataObject keyHolderData)
     {
         this.newOrChangedCount++;
 
@@ -136,7 +147,7 @@ public class LoadingTaskImpl implements LoadingTask
             return;
         }
 
-        this.stripe.add(keyHolder.zGetCurrentData());
+        this.stripe.add(keyHolderData);
 
         this.dependentKeyIndices.get(0).getCacheLoaderEngine().changeStripedCount(this.dependentKeyIndices.size());
 
@@ -161,7 +172,7 @@ public class LoadingTaskImpl implements LoadingTask
         }
     }
 
-    private void checkAndWaitForSyslog()
+    protected void checkAndWaitForSyslog()
     {
         if (this.syslogChecker == null)
         {
@@ -197,7 +208,7 @@ public class LoadingTaskImpl implements LoadingTask
         }
     }
 
-    private void dereference()
+    protected void dereference()
     {
         this.mithraController.clearQueryCache();
         this.dependentKeyIndices = null;
@@ -16,10 +16,15 @@
 
 package com.gs.fw.common.mithra.cacheloader;
 
+import com.gs.fw.common.mithra.database.CursorStageTimer;
 import com.gs.fw.common.mithra.database.SqlLogSnooper;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 
 public class LoadingTaskMonitor
 {
@@ -31,10 +36,15 @@ public class LoadingTaskMonitor
     private ConfigValues configValues;
 
     private String sqlLog;
-    private long startTime = 0L;
-    private long finishTime = 0L;
+    private volatile long startTime = 0L;
+    private volatile long finishTime = 0L; // written last, so the fields below are visible once it is set
     private LoadingTaskRunner.State state;
     private int loadedSize;
+    private long queryNanos;
+    private long fetchNanos;
+    private long inflateNanos;
+    private long indexNanos;
+    private MutableList<LoadingTaskMonitor> prerequisites = Lists.fixedSize.of();
 
     public LoadingTaskMonitor(LoadingTask loadingTask, String threadPoolName)
     {
@@ -48,29 +58,52 @@ public class LoadingTaskMonitor
         this.configValues = values;
     }
 
+    protected void addPrerequisite(LoadingTaskMonitor prerequisite)
+    {
+        this.prerequisites = this.prerequisites.with(prerequisite);
+    }
+
     public void startMonitoring(LoadingTaskRunner.State state)
     {
-        this.startTime = System.currentTimeMillis();
         if (this.configValues.isCaptureTaskSQLs())
         {
             SqlLogSnooper.startSqlSnooping();
         }
+        CursorStageTimer.startTiming();
         this.state = state;
+        this.startTime = System.currentTimeMillis();
     }
 
     public void finishMonitoring(LoadingTask loadingTask, int loadedSize, LoadingTaskRunner.State state)
     {
-        this.finishTime = System.currentTimeMillis();
+        long now = System.currentTimeMillis();
         this.state = state;
         this.loadedSize = loadedSize;
 
+        CursorStageTimer timer = CursorStageTimer.completeTiming();
+        if (timer != null)
+        {
+            this.queryNanos = timer.getQueryNanos();
+            this.fetchNanos = timer.getFetchNanos();
+            this.inflateNanos = timer.getInflateNanos();
+            this.indexNanos = timer.getIndexNanos();
+        }
         if (this.configValues.isCaptureTaskSQLs())
         {
             this.sqlLog = SqlLogSnooper.completeSqlSnooping();
+        }
+        this.finishTime = now;
+        if (this.configValues.isCaptureTaskSQLs())
+        {
             this.reportSlowSQL();
         }
     }
 
+    public boolean isFinished()
+    {
+        return this.finishTime != 0L;
+    }
+
     protected void reportSlowSQL()
     {
         if (logger.isWarnEnabled())
@@ -129,6 +162,43 @@ public class LoadingTaskMonitor
         return loadedSize;
     }
 
+    /**
+     * time spent getting a connection and executing the query, valid once the task is finished
+     */
+    public long getQueryNanos()
+    {
+        return this.queryNanos;
+    }
+
+    /**
+     * time spent in ResultSet.next(), valid once the task is finished
+     */
+    public long getFetchNanos()
+    {
+        return this.fetchNanos;
+    }
+
+    /**
+     * time spent creating data objects from the result set, valid once the task is finished
+     */
+    public long getInflateNanos()
+    {
+        return this.inflateNanos;
+    }
+
+    /**
+     * time spent putting the loaded objects into the cache and its indices, valid once the task is finished
+     */
+    public long getIndexNanos()
+    {
+        return this.indexNanos;
+    }
+
+    public List<LoadingTaskMonitor> getPrerequisites()
+    {
+        return this.prerequisites;
+    }
+
     public String toString()
     {
         StringBuilder builder = new StringBuilder();
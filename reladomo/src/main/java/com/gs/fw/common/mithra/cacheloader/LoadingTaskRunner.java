@@ -58,6 +58,7 @@ public final class LoadingTaskRunner implements Runnable
     public void addPrerequisite(LoadingTaskRunner prerequisite)
     {
         this.prerequisites = this.prerequisites.with(prerequisite);
+        this.loadingTaskMonitor.addPrerequisite(prerequisite.getLoadingTaskMonitor());
     }
 
     public void attachPrerequisites(CacheLoaderContext context)
@@ -94,10 +95,11 @@ public final class LoadingTaskRunner implements Runnable
         }
         finally
         {
+            // finish monitoring first, so the engine's progress is complete once the last task signals
+            this.loadingTaskMonitor.finishMonitoring(this.loadingTask, loadedSize, this.state);
             this.cacheLoaderEngine.changeTaskCount(-1);
             this.cacheLoaderEngine.signalTaskCompleted();
 
-            this.loadingTaskMonitor.finishMonitoring(this.loadingTask, loadedSize, this.state);
             if (this.state == State.FAILED)
             {
                 logger.error("SQL of failed task: " + this.loadingTaskMonitor.getSql());
@@ -0,0 +1,41 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cacheloader;
+
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs the work for one thread pool name (i.e. one database server): IO bound loading tasks and the CPU bound
+ * stripes that feed the dependent key indices. CPU tasks for one pool are never run concurrently with each other.
+ */
+public interface LoadingTaskThreadPool
+{
+    public void addToCPUQueue(Callable<Runnable> cpuTask);
+
+    public void addToIOQueue(Runnable ioTask);
+
+    public void awaitForAbandonedThreads();
+
+    public void startThreads();
+
+    public void shutdown();
+
+    public boolean isStopped();
+
+    public void updateMonitor(LoadingTaskThreadPoolMonitor monitor);
+}
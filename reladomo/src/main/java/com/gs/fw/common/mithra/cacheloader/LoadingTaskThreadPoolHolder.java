@@ -25,19 +25,25 @@ import java.util.List;
 
 public class LoadingTaskThreadPoolHolder
 {
-    private final IOTaskThreadPoolWithCpuTaskConveyor ioTaskThreadPoolWithCpuTaskConveyor;
+    private final LoadingTaskThreadPool threadPool;
     private final List<DependentKeyIndex> dependentKeyIndices = FastList.newList();
     private final SyslogChecker syslogChecker;
 
     public LoadingTaskThreadPoolHolder(ExternalQueueThreadExecutor.ExceptionHandler exceptionHandler, String name, int threadCount, SyslogChecker syslogChecker)
     {
         this.syslogChecker = syslogChecker;
-        ioTaskThreadPoolWithCpuTaskConveyor = new IOTaskThreadPoolWithCpuTaskConveyor(new DependentTaskBuilder(), exceptionHandler, name, threadCount);
+        this.threadPool = new IOTaskThreadPoolWithCpuTaskConveyor(new DependentTaskBuilder(), exceptionHandler, name, threadCount);
+    }
+
+    public LoadingTaskThreadPoolHolder(WorkStealingLoadingScheduler scheduler, String name, int threadCount, SyslogChecker syslogChecker)
+    {
+        this.syslogChecker = syslogChecker;
+        this.threadPool = scheduler.addPool(name, threadCount, new DependentTaskBuilder());
     }
 
     private class DependentTaskBuilder implements IOTaskThreadPoolWithCpuTaskConveyor.Builder
     {
-        //always called by the same single conveyor thread
+        //always called by the same single conveyor thread, or by the worker owning the pool's CPU tasks
         @Override
         public Runnable build()
         {
@@ -81,15 +87,15 @@ public class LoadingTaskThreadPoolHolder
             if (size > maxSize) maxSize = size;
         }
 
-        this.ioTaskThreadPoolWithCpuTaskConveyor.updateMonitor(monitor);
+        this.threadPool.updateMonitor(monitor);
         monitor.setDependentKeyIndices(dependentKeyIndices.size());
         monitor.setIndexSize(indexSize);
         monitor.setMaxSize(maxSize);
         monitor.setProducedKeys(producedKeys);
     }
 
-    public IOTaskThreadPoolWithCpuTaskConveyor getThreadPool()
+    public LoadingTaskThreadPool getThreadPool()
     {
-        return this.ioTaskThreadPoolWithCpuTaskConveyor;
+        return this.threadPool;
     }
 }
@@ -25,8 +25,54 @@ import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * Non milestoned classes have no processing date to select the rows changed since the last refresh, so by default
+ * they are not refreshed. With a "changeFeed" or "changeLogClass" parameter (see {@link ChangeFeed} and
+ * {@link ChangeLogFeed}), a refresh renews the rows reported by the feed.
+ */
 public class NonMilestonedTopLevelLoaderFactory extends AbstractLoaderFactory
 {
+    @Override
+    public void createLoadTasksPerBusinessDate(CacheLoaderContext context, Object sourceAttribute, BooleanFilter postLoadFilter)
+    {
+        ChangeFeed changeFeed = context.getRefreshInterval() == null || postLoadFilter != null ? null : this.createChangeFeed();
+        if (changeFeed == null)
+        {
+            super.createLoadTasksPerBusinessDate(context, sourceAttribute, postLoadFilter);
+            return;
+        }
+        ChangeFeedLoadingTask loadingTask = new ChangeFeedLoadingTask(this.getClassController(), changeFeed, context.getRefreshInterval(),
+                this.createFindAllOperation(context.getBusinessDates(), sourceAttribute));
+        loadingTask.setSourceAttribute(sourceAttribute);
+
+        LoadingTaskRunner loadingTaskRunner = new LoadingTaskRunner(context.getEngine(), this.getDatabaseIdentifier(sourceAttribute),
+                loadingTask, LoadingTaskRunner.State.WAITING_FOR_PREREQUISITES);
+        loadingTaskRunner.addPrerequisiteClassNames(this.getPrerequisiteClassNames());
+        context.getDataSetLoaders().add(loadingTaskRunner);
+    }
+
+    protected ChangeFeed createChangeFeed()
+    {
+        List<String> changeFeedClassNames = this.getParamValuesNamed("changeFeed");
+        if (!changeFeedClassNames.isEmpty())
+        {
+            return (ChangeFeed) CacheLoaderConfig.newInstance(changeFeedClassNames.get(0));
+        }
+        List<String> changeLogClassNames = this.getParamValuesNamed("changeLogClass");
+        if (!changeLogClassNames.isEmpty())
+        {
+            List<String> timeAttributeNames = this.getParamValuesNamed("changeLogTimeAttribute");
+            if (timeAttributeNames.isEmpty())
+            {
+                throw new RuntimeException("changeLogClass requires a changeLogTimeAttribute parameter (" + this + ")");
+            }
+            List<String> classNameAttributeNames = this.getParamValuesNamed("changeLogClassNameAttribute");
+            return new ChangeLogFeed(changeLogClassNames.get(0), timeAttributeNames.get(0),
+                    classNameAttributeNames.isEmpty() ? null : classNameAttributeNames.get(0));
+        }
+        return null;
+    }
+
     @Override
     public List<TaskOperationDefinition> buildRefreshTaskDefinitions(CacheLoaderContext context, Operation loadOperation)
     {
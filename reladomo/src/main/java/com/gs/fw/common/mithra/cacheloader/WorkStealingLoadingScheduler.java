@@ -0,0 +1,416 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cacheloader;
+
+
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A single set of worker threads shared by all thread pool names of a cache load, used instead of a separate
+ * {@link IOTaskThreadPoolWithCpuTaskConveyor} per database server.
+ * <p>
+ * Each pool name keeps its own IO and CPU queues. A worker starts with its home pool and moves on to the other pools
+ * when there is nothing it may run there, so no thread sits idle while another pool has a backlog:
+ * <ul>
+ * <li>an IO task runs only if a permit for its pool is available. There are threadsPerDbServer permits per pool,
+ * the same number of concurrent queries the dedicated pools allow, so connection pools are not oversubscribed.</li>
+ * <li>CPU tasks (stripes for the {@link DependentKeyIndex}es) and building tasks from the indices run under a
+ * per pool ownership flag, which keeps the indices single threaded just like the conveyor thread does.</li>
+ * </ul>
+ * The tempdb {@link com.gs.fw.common.mithra.database.SyslogChecker} is still checked by each loading task.
+ */
+public class WorkStealingLoadingScheduler
+{
+    private static final int CPU_TASK_BATCH = 16;
+    private static final long IDLE_WAIT_MILLIS = 50;
+
+    private final ExternalQueueThreadExecutor.ExceptionHandler exceptionHandler;
+    private final String name;
+    private final List<PoolQueue> pools = FastList.newList();
+    private final Object idleLock = new Object();
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private final LongAdder stolenTasks = new LongAdder();
+    private volatile PoolQueue[] poolArray = new PoolQueue[0];
+    private volatile boolean stopped = false;
+    private volatile boolean started = false;
+    private long workVersion = 0;
+    private Thread[] workers;
+
+    public WorkStealingLoadingScheduler(ExternalQueueThreadExecutor.ExceptionHandler exceptionHandler, String name)
+    {
+        this.exceptionHandler = exceptionHandler;
+        this.name = name;
+    }
+
+    /**
+     * @threadsafe executed during engine construction
+     */
+    public synchronized LoadingTaskThreadPool addPool(String poolName, int threadCount, IOTaskThreadPoolWithCpuTaskConveyor.Builder ioBoundTaskBuilder)
+    {
+        if (this.started)
+        {
+            throw new RuntimeException("cannot add pool " + poolName + " after the scheduler has started");
+        }
+        PoolQueue pool = new PoolQueue(poolName, threadCount, ioBoundTaskBuilder);
+        this.pools.add(pool);
+        this.poolArray = this.pools.toArray(new PoolQueue[this.pools.size()]);
+        return pool;
+    }
+
+    /**
+     * Starts one worker per IO permit plus one per pool, the same number of threads the dedicated pools would use.
+     */
+    public synchronized void start()
+    {
+        if (this.started)
+        {
+            return;
+        }
+        this.started = true;
+        int threadCount = 0;
+        for (int i = 0; i < this.pools.size(); i++)
+        {
+            threadCount += this.pools.get(i).threadCount + 1;
+        }
+        this.workers = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++)
+        {
+            Thread worker = new Thread(new Worker(i), this.name + "-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            this.workers[i] = worker;
+        }
+    }
+
+    public void shutdown()
+    {
+        this.stopped = true;
+        for (PoolQueue each : this.poolArray)
+        {
+            each.ioTasks.clear();
+            each.ioQueued.set(0);
+            each.cpuTasks.clear();
+        }
+        synchronized (this.idleLock)
+        {
+            this.workVersion++;
+            this.idleLock.notifyAll();
+        }
+    }
+
+    public boolean isStopped()
+    {
+        if (this.workers != null)
+        {
+            for (Thread each : this.workers)
+            {
+                if (each.isAlive())
+                {
+                    return false;
+                }
+            }
+        }
+        return this.stopped;
+    }
+
+    public int getWorkerCount()
+    {
+        return this.workers == null ? 0 : this.workers.length;
+    }
+
+    public int getBusyWorkerCount()
+    {
+        return this.busyWorkers.get();
+    }
+
+    /**
+     * @return the number of tasks run by a worker whose home pool was a different one
+     */
+    public long getStolenTaskCount()
+    {
+        return this.stolenTasks.sum();
+    }
+
+    private void signalWork()
+    {
+        synchronized (this.idleLock)
+        {
+            this.workVersion++;
+            this.idleLock.notify();
+        }
+    }
+
+    private long getWorkVersion()
+    {
+        synchronized (this.idleLock)
+        {
+            return this.workVersion;
+        }
+    }
+
+    private void awaitWork(long seenVersion)
+    {
+        synchronized (this.idleLock)
+        {
+            if (this.workVersion == seenVersion && !this.stopped)
+            {
+                try
+                {
+                    // the timeout covers dependent key indices that can produce a task without any new signal
+                    this.idleLock.wait(IDLE_WAIT_MILLIS);
+                }
+                catch (InterruptedException e)
+                {
+                    // continue
+                }
+            }
+        }
+    }
+
+    private class Worker implements Runnable
+    {
+        private final int home;
+
+        private Worker(int home)
+        {
+            this.home = home;
+        }
+
+        @Override
+        public void run()
+        {
+            while (!stopped)
+            {
+                long seenVersion = getWorkVersion();
+                if (!this.runOne())
+                {
+                    awaitWork(seenVersion);
+                }
+            }
+        }
+
+        /**
+         * IO tasks come first, so that database connections are kept busy; CPU work fills in the remaining time.
+         */
+        private boolean runOne()
+        {
+            PoolQueue[] pools = poolArray;
+            int poolCount = pools.length;
+            for (int i = 0; i < poolCount; i++)
+            {
+                if (pools[(this.home + i) % poolCount].tryRunIOTask())
+                {
+                    if (i > 0) stolenTasks.increment();
+                    return true;
+                }
+            }
+            for (int i = 0; i < poolCount; i++)
+            {
+                if (pools[(this.home + i) % poolCount].tryRunCPUTasks())
+                {
+                    if (i > 0) stolenTasks.increment();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private class PoolQueue implements LoadingTaskThreadPool, Runnable
+    {
+        private final String poolName;
+        private final int threadCount;
+        private final IOTaskThreadPoolWithCpuTaskConveyor.Builder ioBoundTaskBuilder;
+        private final Semaphore ioPermits;
+        private final ConcurrentLinkedQueue<Runnable> ioTasks = new ConcurrentLinkedQueue<Runnable>();
+        private final AtomicInteger ioQueued = new AtomicInteger();
+        private final ConcurrentLinkedQueue<Callable<Runnable>> cpuTasks = new ConcurrentLinkedQueue<Callable<Runnable>>();
+        private final AtomicBoolean cpuOwned = new AtomicBoolean();
+        private final AtomicInteger busyIOThreads = new AtomicInteger();
+
+        private PoolQueue(String poolName, int threadCount, IOTaskThreadPoolWithCpuTaskConveyor.Builder ioBoundTaskBuilder)
+        {
+            this.poolName = poolName;
+            this.threadCount = threadCount;
+            this.ioBoundTaskBuilder = ioBoundTaskBuilder;
+            this.ioPermits = new Semaphore(threadCount);
+        }
+
+        private boolean tryRunIOTask()
+        {
+            if (this.ioTasks.isEmpty() || !this.ioPermits.tryAcquire())
+            {
+                return false;
+            }
+            Runnable task = this.ioTasks.poll();
+            if (task == null)
+            {
+                this.ioPermits.release();
+                return false;
+            }
+            this.ioQueued.decrementAndGet();
+            this.busyIOThreads.incrementAndGet();
+            busyWorkers.incrementAndGet();
+            try
+            {
+                task.run();
+            }
+            catch (Throwable t)
+            {
+                exceptionHandler.handleException(task, t);
+            }
+            finally
+            {
+                busyWorkers.decrementAndGet();
+                this.busyIOThreads.decrementAndGet();
+                this.ioPermits.release();
+            }
+            if (!this.ioTasks.isEmpty())
+            {
+                signalWork();
+            }
+            return true;
+        }
+
+        /**
+         * Mirrors {@link IOTaskThreadPoolWithCpuTaskConveyor}: stripes are added to the indices, and the indices are
+         * turned into IO tasks while fewer than threadCount tasks are waiting.
+         */
+        private boolean tryRunCPUTasks()
+        {
+            boolean mayBuild = this.ioQueued.get() < this.threadCount;
+            if ((this.cpuTasks.isEmpty() && !mayBuild) || !this.cpuOwned.compareAndSet(false, true))
+            {
+                return false;
+            }
+            boolean ran = false;
+            busyWorkers.incrementAndGet();
+            try
+            {
+                Callable<Runnable> cpuTask;
+                for (int i = 0; i < CPU_TASK_BATCH && !stopped && (cpuTask = this.cpuTasks.poll()) != null; i++)
+                {
+                    ran = true;
+                    Runnable ioBoundTask = cpuTask.call();
+                    if (ioBoundTask != null)
+                    {
+                        this.queueIOTask(ioBoundTask);
+                    }
+                }
+                Runnable ioBoundTask;
+                while (!stopped && this.ioQueued.get() < this.threadCount && (ioBoundTask = this.ioBoundTaskBuilder.build()) != null)
+                {
+                    ran = true;
+                    this.queueIOTask(ioBoundTask);
+                }
+            }
+            catch (Throwable t)
+            {
+                exceptionHandler.handleException(this, t);
+            }
+            finally
+            {
+                busyWorkers.decrementAndGet();
+                this.cpuOwned.set(false);
+            }
+            if (ran && !this.cpuTasks.isEmpty())
+            {
+                signalWork();
+            }
+            return ran;
+        }
+
+        @Override
+        public void run()
+        {
+            this.tryRunCPUTasks();
+        }
+
+        private void queueIOTask(Runnable ioTask)
+        {
+            this.ioQueued.incrementAndGet();
+            this.ioTasks.add(ioTask);
+            signalWork();
+        }
+
+        @Override
+        public void addToCPUQueue(Callable<Runnable> cpuTask)
+        {
+            if (stopped)
+            {
+                throw new RuntimeException("stopped");
+            }
+            this.cpuTasks.add(cpuTask);
+            signalWork();
+        }
+
+        @Override
+        public void addToIOQueue(Runnable ioTask)
+        {
+            if (stopped)
+            {
+                throw new RuntimeException("stopped");
+            }
+            this.queueIOTask(ioTask);
+        }
+
+        @Override
+        public void awaitForAbandonedThreads()
+        {
+            // workers are shared and exit once the scheduler is stopped; there is no per pool thread to wait for
+        }
+
+        @Override
+        public void startThreads()
+        {
+            start();
+        }
+
+        @Override
+        public void shutdown()
+        {
+            WorkStealingLoadingScheduler.this.shutdown();
+        }
+
+        @Override
+        public boolean isStopped()
+        {
+            return WorkStealingLoadingScheduler.this.isStopped();
+        }
+
+        @Override
+        public void updateMonitor(LoadingTaskThreadPoolMonitor monitor)
+        {
+            monitor.setBusyIOThreads(this.busyIOThreads.get());
+            monitor.setIoTaskQueue(this.ioQueued.get());
+            monitor.setCpuTaskQueue(this.cpuTasks.size());
+        }
+
+        public String toString()
+        {
+            return "CPU tasks for " + this.poolName;
+        }
+    }
+}
@@ -84,10 +84,14 @@ public abstract class AbstractConnectionManager
 
     private boolean useStatementPooling;
 
+    private boolean useConcurrentPool = Boolean.parseBoolean(System.getProperty("mithra.connectionPool.concurrent", "false"));
+
     private long connectionMaxLifeTimeAfterStartMillis = 0;
 
     private static Logger logger = LoggerFactory.getLogger(AbstractConnectionManager.class.getName());
 
+    private static final int STATEMENTS_TO_POOL = Integer.getInteger("mithra.connectionPool.statementCacheSize", 5);
+
     public AbstractConnectionManager()
     {
         this.setProperty("APPLICATIONNAME", getApplicationName());
@@ -116,9 +120,18 @@ public abstract class AbstractConnectionManager
         ConnectionFactory connectionFactory = createConnectionFactory(loginProperties);
         PoolableObjectFactory objectFactoryForConnectionPool = getObjectFactoryForConnectionPool(connectionFactory, connectionPool);
 
-        connectionPool = new ObjectPoolWithThreadAffinity(objectFactoryForConnectionPool, this.getPoolSize(),
-                this.getMaxWait(), this.getPoolSize(), this.getInitialSize(), true, false, this.timeBetweenEvictionRunsMillis,
-                this.minEvictableIdleTimeMillis, this.softMinEvictableIdleTimeMillis);
+        if (this.useConcurrentPool)
+        {
+            connectionPool = new ConcurrentObjectPoolWithThreadAffinity(objectFactoryForConnectionPool, this.getPoolSize(),
+                    this.getMaxWait(), this.getPoolSize(), this.getInitialSize(), true, false, this.timeBetweenEvictionRunsMillis,
+                    this.minEvictableIdleTimeMillis, this.softMinEvictableIdleTimeMillis);
+        }
+        else
+        {
+            connectionPool = new ObjectPoolWithThreadAffinity(objectFactoryForConnectionPool, this.getPoolSize(),
+                    this.getMaxWait(), this.getPoolSize(), this.getInitialSize(), true, false, this.timeBetweenEvictionRunsMillis,
+                    this.minEvictableIdleTimeMillis, this.softMinEvictableIdleTimeMillis);
+        }
 
         dataSource = createPoolingDataSource(connectionPool);
 
@@ -169,7 +182,7 @@ public abstract class AbstractConnectionManager
 
         try
         {
-            poolableConnectionFactory = new MithraPoolableConnectionFactory(connectionFactory, 5, this.connectionMaxLifeTimeAfterStartMillis);
+            poolableConnectionFactory = new MithraPoolableConnectionFactory(connectionFactory, STATEMENTS_TO_POOL, this.connectionMaxLifeTimeAfterStartMillis);
         }
         catch (Exception e)
         {
@@ -247,6 +260,74 @@ public abstract class AbstractConnectionManager
         return connectionPool.getNumIdle();
     }
 
+    public boolean isUseConcurrentPool()
+    {
+        return useConcurrentPool;
+    }
+
+    /**
+     * sets whether the pool should be a {@link ConcurrentObjectPoolWithThreadAffinity}, which avoids a global
+     * lock when getting and returning connections. Default is false, or the value of the
+     * mithra.connectionPool.concurrent system property. Must be called before initialisePool().
+     * @param useConcurrentPool
+     */
+    public void setUseConcurrentPool(boolean useConcurrentPool)
+    {
+        if (this.connectionPool != null)
+        {
+            logger.warn("Calling setUseConcurrentPool after initializing the pool has no effect! Please call setUseConcurrentPool before.");
+        }
+        this.useConcurrentPool = useConcurrentPool;
+    }
+
+    /**
+     * @return the fraction of the pool size currently handed out
+     */
+    public double getConnectionPoolUtilization()
+    {
+        int poolSize = this.getPoolSize();
+        return poolSize <= 0 ? 0.0 : ((double) connectionPool.getNumActive()) / poolSize;
+    }
+
+    /**
+     * @return the average time getConnection() waited for an exhausted pool. Only tracked by the concurrent pool;
+     * always 0 otherwise.
+     */
+    public double getAverageConnectionWaitMillis()
+    {
+        if (connectionPool instanceof ConcurrentObjectPoolWithThreadAffinity)
+        {
+            return ((ConcurrentObjectPoolWithThreadAffinity) connectionPool).getAverageBorrowWaitMillis();
+        }
+        return 0.0;
+    }
+
+    /**
+     * @return the longest time getConnection() waited for an exhausted pool. Only tracked by the concurrent pool;
+     * always 0 otherwise.
+     */
+    public double getMaxConnectionWaitMillis()
+    {
+        if (connectionPool instanceof ConcurrentObjectPoolWithThreadAffinity)
+        {
+            return ((ConcurrentObjectPoolWithThreadAffinity) connectionPool).getMaxBorrowWaitMillis();
+        }
+        return 0.0;
+    }
+
+    /**
+     * @return the number of getConnection() calls that had to wait for an exhausted pool. Only tracked by the
+     * concurrent pool; always 0 otherwise.
+     */
+    public long getConnectionWaitCount()
+    {
+        if (connectionPool instanceof ConcurrentObjectPoolWithThreadAffinity)
+        {
+            return ((ConcurrentObjectPoolWithThreadAffinity) connectionPool).getWaitedBorrowCount();
+        }
+        return 0;
+    }
+
     /**
      * sets the LDAP name that is used to resolve this connection.
      * @param ldapServerName for example: "NYPARAD01"
@@ -0,0 +1,698 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.connectionmanager;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A drop-in replacement for {@link ObjectPoolWithThreadAffinity} that does not take the pool monitor
+ * on the borrow/return path.
+ * <p>
+ * Idle objects live in a set of lock-free stacks (one per stripe). A thread returns objects to the stripe picked by
+ * its identity hash and borrows from that stripe first, stealing from the other stripes only when its own is empty.
+ * On top of that, each thread remembers the last object it returned; if nobody took it in the meantime, the next
+ * borrow from that thread gets it back without touching the stripes at all. Objects are claimed with a compare and
+ * set on their state, so a stack can briefly hold an object that was already handed out through the thread local
+ * path; such entries are simply dropped when popped.
+ * <p>
+ * Threads only block on a lock when the pool is exhausted and {@link #WHEN_EXHAUSTED_BLOCK} is in effect.
+ * maxActive, maxIdle, maxWait, testOnBorrow and the two idle eviction thresholds behave as they do in the
+ * superclass, except that idle objects are handed out most recently used first, which lets the evictor close
+ * connections that are really surplus.
+ * <p>
+ * The pool also keeps borrow wait time and utilization statistics, see {@link #getAverageBorrowWaitMillis()},
+ * {@link #getMaxBorrowWaitMillis()} and {@link #getUtilization()}.
+ */
+public class ConcurrentObjectPoolWithThreadAffinity<E> extends ObjectPoolWithThreadAffinity<E>
+{
+    private static final int STATE_IDLE = 0;
+    private static final int STATE_IN_USE = 1;
+    private static final int STATE_REMOVED = 2;
+
+    private static final int MAX_STRIPES = 64;
+
+    private final int maxActive;
+    private final int maxIdle;
+    private final int minIdle;
+    private final long maxWaitNanos;
+    private final byte whenExhaustedAction;
+    private final boolean testOnBorrow;
+    private final long minEvictableIdleTimeMillis;
+    private final long softMinEvictableIdleTimeMillis;
+
+    private final ConcurrentLinkedDeque<PoolEntry<E>>[] stripes;
+    private final int stripeMask;
+    private final ConcurrentHashMap<IdentityKey, PoolEntry<E>> entries = new ConcurrentHashMap<IdentityKey, PoolEntry<E>>();
+    private final ThreadLocal<PoolEntry<E>> lastUsedEntry = new ThreadLocal<PoolEntry<E>>();
+
+    private final AtomicInteger totalCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition available = waitLock.newCondition();
+
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder threadLocalBorrowCount = new LongAdder();
+    private final LongAdder waitedBorrowCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder destroyedCount = new LongAdder();
+    private final LongAdder totalBorrowWaitNanos = new LongAdder();
+    private final AtomicLong maxBorrowWaitNanos = new AtomicLong();
+    private final AtomicInteger peakActive = new AtomicInteger();
+
+    /**
+     * Same parameters as {@link ObjectPoolWithThreadAffinity#ObjectPoolWithThreadAffinity}. The number of stripes
+     * defaults to the number of processors and can be set with the mithra.connectionPool.stripes system property.
+     */
+    public ConcurrentObjectPoolWithThreadAffinity(PoolableObjectFactory factory, int maxActive, long maxWait,
+            int maxIdle, int minIdle, boolean testOnBorrow, boolean testOnReturn, long timeBetweenEvictionRunsMillis,
+            long minEvictableIdleTimeMillis, long softMinEvictableIdleTimeMillis)
+    {
+        this(factory, maxActive, maxWait, maxIdle, minIdle, testOnBorrow, testOnReturn, timeBetweenEvictionRunsMillis,
+                minEvictableIdleTimeMillis, softMinEvictableIdleTimeMillis,
+                Integer.getInteger("mithra.connectionPool.stripes", Runtime.getRuntime().availableProcessors()));
+    }
+
+    public ConcurrentObjectPoolWithThreadAffinity(PoolableObjectFactory factory, int maxActive, long maxWait,
+            int maxIdle, int minIdle, boolean testOnBorrow, boolean testOnReturn, long timeBetweenEvictionRunsMillis,
+            long minEvictableIdleTimeMillis, long softMinEvictableIdleTimeMillis, int stripeCount)
+    {
+        super(factory, maxActive, maxWait, maxIdle, minIdle, testOnBorrow, testOnReturn, timeBetweenEvictionRunsMillis,
+                minEvictableIdleTimeMillis, softMinEvictableIdleTimeMillis);
+        this.maxActive = maxActive;
+        this.maxIdle = maxIdle;
+        this.minIdle = minIdle;
+        this.maxWaitNanos = maxWait <= 0 ? 0 : TimeUnit.MILLISECONDS.toNanos(maxWait);
+        this.whenExhaustedAction = this.getWhenExhaustedAction();
+        this.testOnBorrow = testOnBorrow;
+        this.minEvictableIdleTimeMillis = minEvictableIdleTimeMillis;
+        this.softMinEvictableIdleTimeMillis = softMinEvictableIdleTimeMillis;
+
+        int size = 1;
+        while (size < stripeCount && size < MAX_STRIPES)
+        {
+            size <<= 1;
+        }
+        ConcurrentLinkedDeque<PoolEntry<E>>[] newStripes = new ConcurrentLinkedDeque[size];
+        for (int i = 0; i < size; i++)
+        {
+            newStripes[i] = new ConcurrentLinkedDeque<PoolEntry<E>>();
+        }
+        this.stripeMask = size - 1;
+        this.stripes = newStripes;
+    }
+
+    public int getStripeCount()
+    {
+        return this.stripeMask + 1;
+    }
+
+    @Override
+    public E borrowObject() throws Exception
+    {
+        if (isClosed())
+        {
+            throw new IllegalStateException("Pool not open");
+        }
+        long startNanos = System.nanoTime();
+        boolean waited = false;
+        for (; ;)
+        {
+            PoolEntry<E> entry = this.claimIdle();
+            if (entry == null)
+            {
+                if (this.reserveNewObject())
+                {
+                    return this.createObject(startNanos, waited);
+                }
+                switch (this.whenExhaustedAction)
+                {
+                    case WHEN_EXHAUSTED_GROW:
+                        this.totalCount.incrementAndGet();
+                        return this.createObject(startNanos, waited);
+                    case WHEN_EXHAUSTED_FAIL:
+                        throw new NoSuchElementException("Pool exhausted");
+                    case WHEN_EXHAUSTED_BLOCK:
+                        waited = true;
+                        this.awaitAvailable(startNanos);
+                        continue; // keep looping
+                    default:
+                        throw new IllegalArgumentException("WhenExhaustedAction property " + this.whenExhaustedAction + " not recognized.");
+                }
+            }
+
+            // activate & validate the object
+            E obj = entry.object;
+            try
+            {
+                getFactory().activateObject(obj);
+                if (this.testOnBorrow && !getFactory().validateObject(obj))
+                {
+                    throw new Exception("ValidateObject failed");
+                }
+                this.recordBorrow(startNanos, waited);
+                return obj;
+            }
+            catch (Throwable e)
+            {
+                reportException("object activation or validation failed ", e);
+                this.activeCount.decrementAndGet();
+                this.discard(entry);
+                // keep looping
+            }
+        }
+    }
+
+    private PoolEntry<E> claimIdle()
+    {
+        PoolEntry<E> entry = this.lastUsedEntry.get();
+        if (entry != null)
+        {
+            if (this.claim(entry))
+            {
+                this.threadLocalBorrowCount.increment();
+                return entry;
+            }
+            if (entry.state.get() == STATE_REMOVED)
+            {
+                this.lastUsedEntry.remove();
+            }
+        }
+        if (this.idleCount.get() <= 0)
+        {
+            return null;
+        }
+        int home = this.homeStripe();
+        for (int i = 0; i <= this.stripeMask; i++)
+        {
+            ConcurrentLinkedDeque<PoolEntry<E>> stripe = this.stripes[(home + i) & this.stripeMask];
+            while ((entry = stripe.pollFirst()) != null)
+            {
+                entry.inStripe.set(false);
+                if (this.claim(entry))
+                {
+                    this.lastUsedEntry.set(entry);
+                    return entry;
+                }
+                // stale: handed out through the thread local path or removed, drop it
+            }
+        }
+        return null;
+    }
+
+    private boolean claim(PoolEntry<E> entry)
+    {
+        if (entry.state.compareAndSet(STATE_IDLE, STATE_IN_USE))
+        {
+            this.idleCount.decrementAndGet();
+            this.incrementActive();
+            return true;
+        }
+        return false;
+    }
+
+    private void incrementActive()
+    {
+        int active = this.activeCount.incrementAndGet();
+        int peak = this.peakActive.get();
+        while (active > peak && !this.peakActive.compareAndSet(peak, active))
+        {
+            peak = this.peakActive.get();
+        }
+    }
+
+    private int homeStripe()
+    {
+        return System.identityHashCode(Thread.currentThread()) & this.stripeMask;
+    }
+
+    private boolean reserveNewObject()
+    {
+        if (this.maxActive < 0)
+        {
+            this.totalCount.incrementAndGet();
+            return true;
+        }
+        for (; ;)
+        {
+            int total = this.totalCount.get();
+            if (total >= this.maxActive)
+            {
+                return false;
+            }
+            if (this.totalCount.compareAndSet(total, total + 1))
+            {
+                return true;
+            }
+        }
+    }
+
+    private E createObject(long startNanos, boolean waited) throws Exception
+    {
+        boolean newlyCreated = false;
+        try
+        {
+            E obj = getFactory().makeObject(this);
+            PoolEntry<E> entry = new PoolEntry<E>(obj);
+            this.entries.put(new IdentityKey(obj), entry);
+            this.lastUsedEntry.set(entry);
+            this.createdCount.increment();
+            this.incrementActive();
+            newlyCreated = true;
+            this.recordBorrow(startNanos, waited);
+            return obj;
+        }
+        finally
+        {
+            if (!newlyCreated)
+            {
+                // object cannot be created
+                this.totalCount.decrementAndGet();
+                this.signalWaiters();
+            }
+        }
+    }
+
+    private void awaitAvailable(long startNanos) throws InterruptedException
+    {
+        this.waitLock.lock();
+        this.waiterCount.incrementAndGet();
+        try
+        {
+            // an object may have been returned between our last look and registering as a waiter
+            if (this.idleCount.get() > 0 || this.maxActive < 0 || this.totalCount.get() < this.maxActive)
+            {
+                return;
+            }
+            if (this.maxWaitNanos <= 0)
+            {
+                this.available.await();
+            }
+            else
+            {
+                long waitTime = this.maxWaitNanos - (System.nanoTime() - startNanos);
+                if (waitTime > 0)
+                {
+                    this.available.awaitNanos(waitTime);
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        finally
+        {
+            this.waiterCount.decrementAndGet();
+            this.waitLock.unlock();
+        }
+        if (this.maxWaitNanos > 0 && System.nanoTime() - startNanos >= this.maxWaitNanos)
+        {
+            this.timeoutCount.increment();
+            throw new NoSuchElementException("Timeout waiting for idle object");
+        }
+    }
+
+    private void signalWaiters()
+    {
+        if (this.waiterCount.get() > 0)
+        {
+            this.waitLock.lock();
+            try
+            {
+                this.available.signalAll();
+            }
+            finally
+            {
+                this.waitLock.unlock();
+            }
+        }
+    }
+
+    private void recordBorrow(long startNanos, boolean waited)
+    {
+        this.borrowCount.increment();
+        if (waited)
+        {
+            long waitNanos = System.nanoTime() - startNanos;
+            this.waitedBorrowCount.increment();
+            this.totalBorrowWaitNanos.add(waitNanos);
+            long max = this.maxBorrowWaitNanos.get();
+            while (waitNanos > max && !this.maxBorrowWaitNanos.compareAndSet(max, waitNanos))
+            {
+                max = this.maxBorrowWaitNanos.get();
+            }
+        }
+    }
+
+    @Override
+    public void returnObject(E obj) throws Exception
+    {
+        PoolEntry<E> entry = this.entryFor(obj);
+        boolean success = false;
+        try
+        {
+            getFactory().passivateObject(obj);
+            success = !isClosed();
+        }
+        catch (Exception e)
+        {
+            reportException("return failed ", e);
+        }
+        finally
+        {
+            this.activeCount.decrementAndGet();
+            if (!success || (this.maxIdle >= 0 && this.idleCount.get() >= this.maxIdle))
+            {
+                this.discard(entry);
+            }
+            else
+            {
+                this.release(entry);
+            }
+        }
+    }
+
+    private PoolEntry<E> entryFor(E obj)
+    {
+        PoolEntry<E> entry = this.lastUsedEntry.get();
+        if (entry != null && entry.object == obj)
+        {
+            return entry;
+        }
+        IdentityKey key = new IdentityKey(obj);
+        entry = this.entries.get(key);
+        if (entry == null)
+        {
+            // not created by this pool; adopt it like the superclass does
+            entry = new PoolEntry<E>(obj);
+            this.entries.put(key, entry);
+            this.totalCount.incrementAndGet();
+        }
+        return entry;
+    }
+
+    private void release(PoolEntry<E> entry)
+    {
+        entry.idleSince = System.currentTimeMillis();
+        this.idleCount.incrementAndGet();
+        entry.state.set(STATE_IDLE);
+        this.lastUsedEntry.set(entry);
+        if (entry.inStripe.compareAndSet(false, true))
+        {
+            this.stripes[this.homeStripe()].offerFirst(entry);
+        }
+        this.signalWaiters();
+    }
+
+    private void discard(PoolEntry<E> entry)
+    {
+        entry.state.set(STATE_REMOVED);
+        if (this.entries.remove(new IdentityKey(entry.object)) != null)
+        {
+            this.totalCount.decrementAndGet();
+        }
+        if (this.lastUsedEntry.get() == entry)
+        {
+            this.lastUsedEntry.remove();
+        }
+        this.destroyedCount.increment();
+        destroyObject(entry.object);
+        this.signalWaiters();
+    }
+
+    @Override
+    public void invalidateObject(E obj) throws Exception
+    {
+        PoolEntry<E> entry = this.entries.get(new IdentityKey(obj));
+        this.activeCount.decrementAndGet();
+        if (entry != null)
+        {
+            this.discard(entry);
+        }
+        else
+        {
+            this.destroyedCount.increment();
+            destroyObject(obj);
+            this.signalWaiters();
+        }
+    }
+
+    /**
+     * Clears any objects sitting idle in the pool.
+     */
+    @Override
+    public void clear()
+    {
+        for (ConcurrentLinkedDeque<PoolEntry<E>> stripe : this.stripes)
+        {
+            PoolEntry<E> entry;
+            while ((entry = stripe.pollFirst()) != null)
+            {
+                entry.inStripe.set(false);
+                if (entry.state.compareAndSet(STATE_IDLE, STATE_REMOVED))
+                {
+                    this.idleCount.decrementAndGet();
+                    this.discard(entry);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getNumActive()
+    {
+        return this.activeCount.get();
+    }
+
+    @Override
+    public int getNumIdle()
+    {
+        return Math.max(0, this.idleCount.get());
+    }
+
+    @Override
+    public void evict() throws Exception
+    {
+        if (isClosed())
+        {
+            throw new IllegalStateException("Pool not open");
+        }
+        if (this.stripes == null)
+        {
+            return; // the evictor fired before the constructor finished
+        }
+        if (this.idleCount.get() > 0)
+        {
+            if (this.softMinEvictableIdleTimeMillis > 0)
+            {
+                int numToEvict = this.getNumIdle() - this.minIdle;
+                this.evict(System.currentTimeMillis() - this.softMinEvictableIdleTimeMillis, numToEvict);
+            }
+            if (this.minEvictableIdleTimeMillis > 0)
+            {
+                int numToEvict = this.getNumIdle();
+                this.evict(System.currentTimeMillis() - this.minEvictableIdleTimeMillis, numToEvict);
+            }
+        }
+    }
+
+    private void evict(long lastAccessTime, int maxToEvict)
+    {
+        if (maxToEvict <= 0)
+        {
+            return;
+        }
+        List<PoolEntry<E>> candidates = new ArrayList<PoolEntry<E>>();
+        for (ConcurrentLinkedDeque<PoolEntry<E>> stripe : this.stripes)
+        {
+            for (PoolEntry<E> entry : stripe)
+            {
+                if (entry.state.get() == STATE_IDLE && entry.idleSince < lastAccessTime)
+                {
+                    candidates.add(entry);
+                }
+            }
+        }
+        Collections.sort(candidates, new Comparator<PoolEntry<E>>()
+        {
+            public int compare(PoolEntry<E> o1, PoolEntry<E> o2)
+            {
+                return Long.compare(o1.idleSince, o2.idleSince);
+            }
+        });
+        int evicted = 0;
+        for (int i = 0; i < candidates.size() && evicted < maxToEvict; i++)
+        {
+            PoolEntry<E> entry = candidates.get(i);
+            if (entry.state.compareAndSet(STATE_IDLE, STATE_REMOVED))
+            {
+                this.idleCount.decrementAndGet();
+                for (ConcurrentLinkedDeque<PoolEntry<E>> stripe : this.stripes)
+                {
+                    if (stripe.remove(entry))
+                    {
+                        break;
+                    }
+                }
+                this.discard(entry);
+                evicted++;
+            }
+        }
+    }
+
+    //--- statistics -------------------------------------------------
+
+    /**
+     * @return the number of successful borrows since creation or the last {@link #resetStatistics()}
+     */
+    public long getBorrowCount()
+    {
+        return this.borrowCount.sum();
+    }
+
+    /**
+     * @return the number of borrows that got back the object the same thread returned last
+     */
+    public long getThreadLocalBorrowCount()
+    {
+        return this.threadLocalBorrowCount.sum();
+    }
+
+    /**
+     * @return the number of successful borrows that had to wait because the pool was exhausted
+     */
+    public long getWaitedBorrowCount()
+    {
+        return this.waitedBorrowCount.sum();
+    }
+
+    /**
+     * @return the number of borrows that gave up after maxWait
+     */
+    public long getTimeoutCount()
+    {
+        return this.timeoutCount.sum();
+    }
+
+    public long getCreatedCount()
+    {
+        return this.createdCount.sum();
+    }
+
+    public long getDestroyedCount()
+    {
+        return this.destroyedCount.sum();
+    }
+
+    /**
+     * @return the average time a borrow spent waiting for an exhausted pool, over all successful borrows
+     */
+    public double getAverageBorrowWaitMillis()
+    {
+        long count = this.borrowCount.sum();
+        return count == 0 ? 0.0 : this.totalBorrowWaitNanos.sum() / (count * 1000000.0);
+    }
+
+    public double getMaxBorrowWaitMillis()
+    {
+        return this.maxBorrowWaitNanos.get() / 1000000.0;
+    }
+
+    public int getPeakActive()
+    {
+        return this.peakActive.get();
+    }
+
+    public int getNumWaiters()
+    {
+        return this.waiterCount.get();
+    }
+
+    /**
+     * @return the fraction of maxActive currently borrowed, or 0 for an unbounded pool
+     */
+    public double getUtilization()
+    {
+        return this.maxActive <= 0 ? 0.0 : ((double) this.activeCount.get()) / this.maxActive;
+    }
+
+    public void resetStatistics()
+    {
+        this.borrowCount.reset();
+        this.threadLocalBorrowCount.reset();
+        this.waitedBorrowCount.reset();
+        this.timeoutCount.reset();
+        this.createdCount.reset();
+        this.destroyedCount.reset();
+        this.totalBorrowWaitNanos.reset();
+        this.maxBorrowWaitNanos.set(0);
+        this.peakActive.set(this.activeCount.get());
+    }
+
+    private static final class PoolEntry<E>
+    {
+        private final E object;
+        private final AtomicInteger state = new AtomicInteger(STATE_IN_USE);
+        private final AtomicBoolean inStripe = new AtomicBoolean();
+        private volatile long idleSince;
+
+        private PoolEntry(E object)
+        {
+            this.object = object;
+        }
+    }
+
+    private static final class IdentityKey
+    {
+        private final Object object;
+
+        private IdentityKey(Object object)
+        {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof IdentityKey && ((IdentityKey) o).object == this.object;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return System.identityHashCode(this.object);
+        }
+    }
+}
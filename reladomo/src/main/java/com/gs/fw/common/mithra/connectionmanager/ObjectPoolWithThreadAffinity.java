@@ -424,6 +424,11 @@ public class ObjectPoolWithThreadAffinity<E>
         return closed;
     }
 
+    protected final PoolableObjectFactory<E> getFactory()
+    {
+        return factory;
+    }
+
     /**
      * Returns the action to take when the {@link #borrowObject} method
      * is invoked when the pool is exhausted (the maximum number
@@ -664,7 +669,7 @@ public class ObjectPoolWithThreadAffinity<E>
         }
     }
 
-    private void destroyObject(E obj)
+    protected void destroyObject(E obj)
     {
         try
         {
@@ -677,7 +682,7 @@ public class ObjectPoolWithThreadAffinity<E>
         }
     }
 
-    private void reportException(String msg, Throwable t)
+    protected void reportException(String msg, Throwable t)
     {
         if (logger.isDebugEnabled())
         {
@@ -18,8 +18,6 @@
 package com.gs.fw.common.mithra.connectionmanager;
 
 
-import com.gs.fw.common.mithra.util.DoUntilProcedure;
-import com.gs.fw.common.mithra.util.SynchronizedLruMap;
 import com.gs.fw.common.mithra.util.WrappedConnection;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.slf4j.Logger;
@@ -34,15 +32,13 @@ import java.util.List;
 
 public class PooledConnection extends WrappedConnection
 {
-    private static final StatementDestroyAction DESTROY_ACTION = new StatementDestroyAction();
-
     private static final int STATE_ACTIVE = 1;
     private static final int STATE_IN_POOL = 2;
     private static final int STATE_DEAD = 3;
 
     private static Logger logger = LoggerFactory.getLogger(PooledConnection.class.getName());
     private final ObjectPoolWithThreadAffinity pool;
-    private final SynchronizedLruMap<StatementKey, PooledPreparedStatement> statementPool;
+    private final PreparedStatementCache statementPool;
     private final List<Statement> allStatements = FastList.newList();
 
     private int state = STATE_ACTIVE;
@@ -59,7 +55,7 @@ public class PooledConnection extends WrappedConnection
         }
         else
         {
-            statementPool = new SynchronizedLruMap(8, statementsToPool, DESTROY_ACTION);
+            statementPool = new PreparedStatementCache(statementsToPool);
         }
         this.connectionStartTime = System.currentTimeMillis();
     }
@@ -165,15 +161,7 @@ public class PooledConnection extends WrappedConnection
     {
         if (statementPool != null)
         {
-            statementPool.forAll(new DoUntilProcedure<PooledPreparedStatement>()
-            {
-                @Override
-                public boolean execute(PooledPreparedStatement obj)
-                {
-                    obj.reallyClose();
-                    return false;
-                }
-            });
+            statementPool.closeAll();
         }
         this.state = STATE_DEAD;
         super.close();
@@ -214,7 +202,7 @@ public class PooledConnection extends WrappedConnection
 
     private PreparedStatement getOrCreatePreparedStatement(StatementKey key) throws SQLException
     {
-        PooledPreparedStatement preparedStatement = this.statementPool.remove(key);
+        PooledPreparedStatement preparedStatement = this.statementPool.checkOut(key);
         if (preparedStatement == null)
         {
             preparedStatement = new PooledPreparedStatement(key, super.prepareStatement(key.getSql()), this.statementPool);
@@ -288,13 +276,4 @@ public class PooledConnection extends WrappedConnection
         return this.addPreparedStatement(super.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
     }
 
-    private static final class StatementDestroyAction implements SynchronizedLruMap.DestroyAction<PooledPreparedStatement>
-    {
-        @Override
-        public void destroy(PooledPreparedStatement object)
-        {
-            object.reallyClose();
-        }
-    }
-
 }
@@ -17,7 +17,6 @@
 package com.gs.fw.common.mithra.connectionmanager;
 
 
-import com.gs.fw.common.mithra.util.SynchronizedLruMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,10 +27,11 @@ public class PooledPreparedStatement extends DelegatingPreparedStatement
 {
     private static Logger logger = LoggerFactory.getLogger(PooledPreparedStatement.class.getName());
     private final StatementKey key;
-    private final SynchronizedLruMap<StatementKey, PooledPreparedStatement> statementPool;
+    private final PreparedStatementCache statementPool;
     private boolean isActive;
+    private volatile long lastUsed;
 
-    public PooledPreparedStatement(StatementKey key, PreparedStatement delegate, SynchronizedLruMap<StatementKey, PooledPreparedStatement> statementPool)
+    public PooledPreparedStatement(StatementKey key, PreparedStatement delegate, PreparedStatementCache statementPool)
     {
         super(delegate);
         this.key = key;
@@ -45,11 +45,26 @@ public class PooledPreparedStatement extends DelegatingPreparedStatement
         if (isActive)
         {
             this.clearParameters();
-            statementPool.put(this.key, this);
+            statementPool.checkIn(this);
         }
         this.isActive = false;
     }
 
+    public StatementKey getKey()
+    {
+        return key;
+    }
+
+    protected long getLastUsed()
+    {
+        return lastUsed;
+    }
+
+    protected void setLastUsed(long lastUsed)
+    {
+        this.lastUsed = lastUsed;
+    }
+
     public void activate()
     {
         this.isActive = true;
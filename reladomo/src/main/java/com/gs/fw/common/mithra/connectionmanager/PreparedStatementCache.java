@@ -0,0 +1,159 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.connectionmanager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per connection cache of idle prepared statements, keyed by SQL text and catalog.
+ * <p>
+ * A statement is removed from the cache while it's checked out and put back when it's closed, so the order in
+ * which statements are checked back in is also their recency order. Each check in stamps the statement from a
+ * counter; when the cache is over its size, the statement with the smallest stamp is closed. With the small
+ * sizes used for statement caches, that scan is cheaper than maintaining a linked list under a lock.
+ * <p>
+ * Hit, miss and eviction counts are kept for the whole JVM, across all connections.
+ */
+public class PreparedStatementCache
+{
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    private final ConcurrentHashMap<StatementKey, PooledPreparedStatement> statements;
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxSize;
+
+    public PreparedStatementCache(int maxSize)
+    {
+        this.maxSize = maxSize;
+        this.statements = new ConcurrentHashMap<StatementKey, PooledPreparedStatement>(maxSize + (maxSize >> 1) + 1);
+    }
+
+    /**
+     * @return the cached statement for the key, which is no longer in the cache, or null
+     */
+    public PooledPreparedStatement checkOut(StatementKey key)
+    {
+        PooledPreparedStatement statement = this.statements.remove(key);
+        if (statement == null)
+        {
+            misses.increment();
+        }
+        else
+        {
+            this.size.decrementAndGet();
+            hits.increment();
+        }
+        return statement;
+    }
+
+    public void checkIn(PooledPreparedStatement statement)
+    {
+        statement.setLastUsed(this.clock.incrementAndGet());
+        PooledPreparedStatement old = this.statements.put(statement.getKey(), statement);
+        if (old == null)
+        {
+            if (this.size.incrementAndGet() > this.maxSize)
+            {
+                this.evictLeastRecentlyUsed();
+            }
+        }
+        else if (old != statement)
+        {
+            // two statements with the same sql were open at the same time; keep the newer one
+            evictions.increment();
+            old.reallyClose();
+        }
+    }
+
+    private void evictLeastRecentlyUsed()
+    {
+        while (this.size.get() > this.maxSize)
+        {
+            Map.Entry<StatementKey, PooledPreparedStatement> oldest = null;
+            for (Map.Entry<StatementKey, PooledPreparedStatement> entry : this.statements.entrySet())
+            {
+                if (oldest == null || entry.getValue().getLastUsed() < oldest.getValue().getLastUsed())
+                {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null)
+            {
+                return;
+            }
+            if (this.statements.remove(oldest.getKey(), oldest.getValue()))
+            {
+                this.size.decrementAndGet();
+                evictions.increment();
+                oldest.getValue().reallyClose();
+            }
+        }
+    }
+
+    public int size()
+    {
+        return this.size.get();
+    }
+
+    public void closeAll()
+    {
+        for (Iterator<PooledPreparedStatement> it = this.statements.values().iterator(); it.hasNext(); )
+        {
+            PooledPreparedStatement statement = it.next();
+            it.remove();
+            this.size.decrementAndGet();
+            statement.reallyClose();
+        }
+    }
+
+    public static long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    public static long getMissCount()
+    {
+        return misses.sum();
+    }
+
+    public static long getEvictionCount()
+    {
+        return evictions.sum();
+    }
+
+    public static double getHitRatio()
+    {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : ((double) hitCount) / total;
+    }
+
+    public static void resetStatistics()
+    {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.database;
+
+
+/**
+ * Splits the time spent in database cursors on the current thread into stages: running the query (including getting
+ * a connection), fetching rows from the result set, inflating data objects and putting them in the cache.
+ * Like {@link SqlLogSnooper}, it is switched on per thread, so cursors on other threads pay only a null check.
+ */
+public class CursorStageTimer
+{
+    private static final ThreadLocal<CursorStageTimer> threadLocalTimer = new ThreadLocal<CursorStageTimer>();
+
+    private long queryNanos;
+    private long fetchNanos;
+    private long inflateNanos;
+    private long indexNanos;
+
+    public static CursorStageTimer startTiming()
+    {
+        CursorStageTimer timer = new CursorStageTimer();
+        threadLocalTimer.set(timer);
+        return timer;
+    }
+
+    /**
+     * @return the timer that was started on this thread, or null
+     */
+    public static CursorStageTimer completeTiming()
+    {
+        CursorStageTimer result = threadLocalTimer.get();
+        threadLocalTimer.remove();
+        return result;
+    }
+
+    public static CursorStageTimer getCurrent()
+    {
+        return threadLocalTimer.get();
+    }
+
+    public void addQueryNanos(long nanos)
+    {
+        this.queryNanos += nanos;
+    }
+
+    public void addFetchNanos(long nanos)
+    {
+        this.fetchNanos += nanos;
+    }
+
+    public void addInflateNanos(long nanos)
+    {
+        this.inflateNanos += nanos;
+    }
+
+    public void addIndexNanos(long nanos)
+    {
+        this.indexNanos += nanos;
+    }
+
+    public long getQueryNanos()
+    {
+        return this.queryNanos;
+    }
+
+    public long getFetchNanos()
+    {
+        return this.fetchNanos;
+    }
+
+    public long getInflateNanos()
+    {
+        return this.inflateNanos;
+    }
+
+    public long getIndexNanos()
+    {
+        return this.indexNanos;
+    }
+}
@@ -33,6 +33,7 @@ import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.MithraManager;
 import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraObjectFactory;
 import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.MithraTransactionalObject;
@@ -102,6 +103,8 @@ import com.gs.fw.common.mithra.util.SmallSet;
 import com.gs.fw.common.mithra.util.TableColumnInfo;
 import com.gs.fw.common.mithra.util.TempTableNamer;
 import com.gs.reladomo.metadata.ReladomoClassMetaData;
+import com.gs.reladomo.metrics.ReladomoMetricType;
+import com.gs.reladomo.metrics.ReladomoMetrics;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.slf4j.Logger;
@@ -367,6 +370,19 @@ public abstract class MithraAbstractDatabaseObject
         return this.getMithraObjectPortal().getPerformanceData();
     }
 
+    protected void recordMetric(ReladomoMetricType type, long startNanos, int rows)
+    {
+        ReladomoMetrics.record(this.fullyQualifiedFinderClassName, type, startNanos, rows);
+    }
+
+    private Connection getConnectionGenericSourceAndRecordWait(Object source)
+    {
+        long startNanos = System.nanoTime();
+        Connection connection = this.getConnectionGenericSource(source);
+        this.recordMetric(ReladomoMetricType.CONNECTION_WAIT, startNanos, 0);
+        return connection;
+    }
+
     public void setDefaultSchema(String schema)
     {
         this.defaultSchema = schema;
@@ -815,6 +831,7 @@ public abstract class MithraAbstractDatabaseObject
     protected class DatabaseCursor implements Cursor
     {
         private long startTime;
+        private long startNanos;
 
         protected final Cache cache;
         private DatabaseType dt;
@@ -841,21 +858,31 @@ public abstract class MithraAbstractDatabaseObject
         private static final int HASNEXT = 2;
 
         private int state = READY;
+        private final boolean bypassObjectCache;
         private boolean currentHasNext;
         private boolean mustResetRowCount;
 
         private Object source = null;
 
         private Logger sqlLogger = getSqlLogger();
+        private final CursorStageTimer stageTimer = CursorStageTimer.getCurrent();
 
         public DatabaseCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean forceImplicitJoin)
+        {
+            this(analyzedOperation, postLoadFilter, orderby, rowcount, forceImplicitJoin, false);
+        }
+
+        public DatabaseCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean forceImplicitJoin, boolean bypassObjectCache)
         {
             this.startTime = System.currentTimeMillis();
+            this.bypassObjectCache = bypassObjectCache;
+            this.startNanos = System.nanoTime();
             this.analyzedOperation = analyzedOperation;
             this.postLoadFilter = postLoadFilter;
 
             this.query = new SqlQuery(analyzedOperation, orderby, forceImplicitJoin);
             this.query.setForceServerSideOrderBy(true);
+            this.query.setLargeInClauseTimingDisabled(true);
 
             this.sourceCount = query.getNumberOfSources();
             this.cache = getMithraObjectPortal().getCache();
@@ -872,6 +899,11 @@ public abstract class MithraAbstractDatabaseObject
             return this.postLoadFilter == null || this.postLoadFilter.matches(dataObject);
         }
 
+        protected boolean isBypassObjectCache()
+        {
+            return this.bypassObjectCache;
+        }
+
         protected DatabaseType getDatabaseType()
         {
             return dt;
@@ -879,6 +911,7 @@ public abstract class MithraAbstractDatabaseObject
 
         private void prepareResultSet()
         {
+            long start = this.startStage();
             if (MithraManagerProvider.getMithraManager().isInTransaction())
             {
                 prepareResultSetWithoutRetry();
@@ -887,6 +920,53 @@ public abstract class MithraAbstractDatabaseObject
             {
                 prepareResultSetWithRetry();
             }
+            if (this.stageTimer != null)
+            {
+                this.stageTimer.addQueryNanos(System.nanoTime() - start);
+            }
+        }
+
+        private boolean advanceResultSet() throws SQLException
+        {
+            if (this.currentResultSet == null)
+            {
+                return false;
+            }
+            if (this.stageTimer == null)
+            {
+                return this.currentResultSet.next();
+            }
+            long start = System.nanoTime();
+            boolean result = this.currentResultSet.next();
+            this.stageTimer.addFetchNanos(System.nanoTime() - start);
+            return result;
+        }
+
+        protected long startStage()
+        {
+            return this.stageTimer == null ? 0 : System.nanoTime();
+        }
+
+        /**
+         * @return the end of the inflate stage, which is the start of the index stage
+         */
+        protected long endInflateStage(long start)
+        {
+            if (this.stageTimer == null)
+            {
+                return 0;
+            }
+            long now = System.nanoTime();
+            this.stageTimer.addInflateNanos(now - start);
+            return now;
+        }
+
+        protected void endIndexStage(long start)
+        {
+            if (this.stageTimer != null)
+            {
+                this.stageTimer.addIndexNanos(System.nanoTime() - start);
+            }
         }
 
         private void prepareResultSetWithRetry()
@@ -996,13 +1076,13 @@ public abstract class MithraAbstractDatabaseObject
                     do
                     {
                         this.currentHasNext = ((this.maxRowCount <= 0) || (this.rowCount < this.maxRowCount)) &&
-                                ((this.currentResultSet != null) && (this.currentResultSet.next()));
+                                this.advanceResultSet();
 
                         while (!this.currentHasNext && ((this.maxRowCount <= 0) || (this.rowCount < this.maxRowCount)) && (this.currentSourceNum < this.sourceCount))
                         {
                             this.prepareResultSet();
                             this.currentHasNext = ((this.maxRowCount <= 0) || (this.rowCount < this.maxRowCount)) &&
-                                    ((this.currentResultSet != null) && (this.currentResultSet.next()));
+                                    this.advanceResultSet();
 
                         }
 
@@ -1055,6 +1135,7 @@ public abstract class MithraAbstractDatabaseObject
                                                this.rowCount, this.startTime, MithraAbstractDatabaseObject.this.getClass());
             }
             getPerformanceData().recordTimeForFind(this.rowCount, this.startTime);
+            recordMetric(ReladomoMetricType.FIND, this.startNanos, this.rowCount);
         }
 
         private void cleanUpDbConnectionsWithExceptionHandling(boolean cleanUpSource)
@@ -1087,10 +1168,18 @@ public abstract class MithraAbstractDatabaseObject
 
         protected Object getObject(ResultSet res, Object source) throws SQLException
         {
+            long start = this.startStage();
             MithraDataObject newData = inflateDataGenericSource(res, source, this.dt);
-            return (this.matchesPostLoadOperation(newData))
-                    ? this.cache.getObjectFromDataWithoutCaching(newData)
-                    : null;
+            long inflated = this.endInflateStage(start);
+            if (!this.matchesPostLoadOperation(newData))
+            {
+                return null;
+            }
+            Object result = this.bypassObjectCache
+                    ? ((MithraObjectFactory) MithraAbstractDatabaseObject.this).createObject(newData)
+                    : this.cache.getObjectFromDataWithoutCaching(newData);
+            this.endIndexStage(inflated);
+            return result;
         }
 
         protected String getStatement(DatabaseType dt, SqlQuery query, AnalyzedOperation analyzedOperation, int rowCount)
@@ -1171,19 +1260,19 @@ public abstract class MithraAbstractDatabaseObject
     protected Connection getConnectionForQueryGenericSource(SqlQuery query, Object source)
     {
         this.prepareForQuery(query);
-        return this.getConnectionGenericSource(source);
+        return this.getConnectionGenericSourceAndRecordWait(source);
     }
 
     protected Connection getConnectionForReadGenericSource(Object source, boolean mustLock)
     {
         this.prepareTransactionalOperation(mustLock ? MithraTransaction.OperationMode.TRANSACTIONAL_READ : MithraTransaction.OperationMode.READ);
-        return this.getConnectionGenericSource(source);
+        return this.getConnectionGenericSourceAndRecordWait(source);
     }
 
     protected Connection getConnectionForReadGenericSource(Object source)
     {
         this.prepareTransactionalOperation(MithraTransaction.OperationMode.READ);
-        return this.getConnectionGenericSource(source);
+        return this.getConnectionGenericSourceAndRecordWait(source);
     }
 
     protected Connection getConnectionForTempWriteGenericSource(Object source, TupleTempContext tupleTempContext)
@@ -1194,13 +1283,13 @@ public abstract class MithraAbstractDatabaseObject
     protected Connection getConnectionForTempWriteGenericSource(Object source, boolean isForQuery)
     {
         this.prepareTransactionalOperation(isForQuery ? MithraTransaction.OperationMode.TEMP_WRITE_FOR_READ : MithraTransaction.OperationMode.TEMP_WRITE_FOR_WRITE);
-        return this.getConnectionGenericSource(source);
+        return this.getConnectionGenericSourceAndRecordWait(source);
     }
 
     protected Connection getConnectionForWriteGenericSource(Object source)
     {
         this.prepareTransactionalOperation(MithraTransaction.OperationMode.WRITE);
-        return this.getConnectionGenericSource(source);
+        return this.getConnectionGenericSourceAndRecordWait(source);
     }
 
     public String getFullyQualifiedTableNameGenericSource(Object source)
@@ -1218,7 +1307,12 @@ public abstract class MithraAbstractDatabaseObject
 
     public Cursor findCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin)
     {
-        return new DatabaseCursor(analyzedOperation, postLoadFilter, orderby, rowcount, false);
+        return this.findCursor(analyzedOperation, postLoadFilter, orderby, rowcount, bypassCache, maxParallelDegree, forceImplicitJoin, false);
+    }
+
+    public Cursor findCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin, boolean bypassObjectCache)
+    {
+        return new DatabaseCursor(analyzedOperation, postLoadFilter, orderby, rowcount, false, bypassObjectCache);
     }
 
     protected CachedQuery find(AnalyzedOperation analyzedOperation, OrderBy orderby, boolean forRelationship, int rowcount)
@@ -1238,6 +1332,7 @@ public abstract class MithraAbstractDatabaseObject
     protected CachedQuery findSequential(AnalyzedOperation analyzedOperation, OrderBy orderby, boolean forRelationship, int rowcount, boolean forceImplicitJoin)
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         SqlQuery query = new SqlQuery(analyzedOperation, orderby, forceImplicitJoin);
         if (rowcount > 0)
         {
@@ -1317,12 +1412,14 @@ public abstract class MithraAbstractDatabaseObject
                 query.cleanTempForSource(sourceNum, dt);
             }
         }
-        return processResults(orderby, forRelationship, startTime, query, cachedQuery, cachedQuery2, result, reachedMaxRowCount);
+        return processResults(orderby, forRelationship, startTime, startNanos, ReladomoMetricType.FIND, query, cachedQuery, cachedQuery2, result, reachedMaxRowCount);
     }
 
     private CachedQuery processResults(OrderBy orderby,
                                        boolean forRelationship,
                                        long startTime,
+                                       long startNanos,
+                                       ReladomoMetricType metricType,
                                        SqlQuery query,
                                        CachedQuery cachedQuery,
                                        CachedQuery cachedQuery2,
@@ -1331,6 +1428,7 @@ public abstract class MithraAbstractDatabaseObject
     {
         processInMemoryDistinct(query, result);
         this.getPerformanceData().recordTimeForFind(result.size(), startTime);
+        this.recordMetric(metricType, startNanos, result.size());
         if (this.getSqlLogger().isDebugEnabled())
         {
             long totalTime = System.currentTimeMillis() - startTime;
@@ -1347,13 +1445,14 @@ public abstract class MithraAbstractDatabaseObject
     protected CachedQuery findParallel(final AnalyzedOperation analyzedOperation, OrderBy orderby, boolean forRelationship, int parallelCount, boolean forceImplicitJoin)
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         SqlQuery query = new SqlQuery(analyzedOperation, orderby, forceImplicitJoin);
         CachedQuery cachedQuery = new CachedQuery(analyzedOperation.getOriginalOperation(), orderby);
         CachedQuery cachedQuery2 = createSecondCachedQuery(analyzedOperation, orderby, cachedQuery);
         List portalList = cachedQuery.getPortalList();
 
         List result = this.parallelFetchForAllSources(analyzedOperation, query, portalList, parallelCount);
-        return processResults(orderby, forRelationship, startTime, query, cachedQuery, cachedQuery2, result, false);
+        return processResults(orderby, forRelationship, startTime, startNanos, ReladomoMetricType.FIND_PARALLEL, query, cachedQuery, cachedQuery2, result, false);
     }
 
     private List parallelFetchForAllSources(final AnalyzedOperation analyzedOperation,
@@ -2221,6 +2320,7 @@ public abstract class MithraAbstractDatabaseObject
     public MithraDataObject refresh(MithraDataObject oldData, boolean lockInDatabase) throws MithraDatabaseException
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         Object source = this.getSourceAttributeValueFromObjectGeneric(oldData);
         DatabaseType dt = this.getDatabaseTypeGenericSource(source);
         boolean perTableLock = dt.hasPerTableLock();
@@ -2279,6 +2379,7 @@ public abstract class MithraAbstractDatabaseObject
             this.closeDatabaseObjects(con, stm, rs);
         }
         this.getPerformanceData().recordTimeForRefresh(startTime);
+        this.recordMetric(ReladomoMetricType.REFRESH, startNanos, 1);
         return refreshData;
     }
 
@@ -3185,7 +3286,9 @@ public abstract class MithraAbstractDatabaseObject
                 tx.setExpectedExecuteBatchReturn(1);
             }
         }
+        long startNanos = System.nanoTime();
         int[] results = executeBatchAndHandleBatchException(stm);
+        this.recordMetric(ReladomoMetricType.EXECUTE_BATCH, startNanos, results.length);
         if (checkUpdateCount)
         {
             checkUpdateCount(results);
@@ -3573,6 +3676,7 @@ public abstract class MithraAbstractDatabaseObject
     protected void zInsert(MithraDataObject dataToInsert) throws MithraDatabaseException
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         Object source = this.getSourceAttributeValueFromObjectGeneric(dataToInsert);
         String sql = "insert into " + this.getFullyQualifiedTableNameGenericSource(source);
         sql += '(' + this.getInsertFields() + ") values (" + this.getInsertQuestionMarks() + ')';
@@ -3621,6 +3725,7 @@ public abstract class MithraAbstractDatabaseObject
             this.closeStatementAndConnection(con, stm);
         }
         this.getPerformanceData().recordTimeForInsert(1, startTime);
+        this.recordMetric(ReladomoMetricType.INSERT, startNanos, 1);
     }
 
     private void reportBadInsert(SQLWarning sqlWarning, int insertedCount, int expectedCount)
@@ -3638,6 +3743,7 @@ public abstract class MithraAbstractDatabaseObject
     protected void zUpdate(MithraTransactionalObject mithraObject, List updateWrappers) throws MithraDatabaseException
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         MithraDataObject firstData = this.getMithraDataObjectForUpdate(mithraObject, updateWrappers);
         (mithraObject).zGetCurrentData();
         Object source = this.getSourceAttributeValueFromObjectGeneric(firstData);
@@ -3687,6 +3793,7 @@ public abstract class MithraAbstractDatabaseObject
             this.closeStatementAndConnection(con, stm);
         }
         this.getPerformanceData().recordTimeForUpdate(1, startTime);
+        this.recordMetric(ReladomoMetricType.UPDATE, startNanos, 1);
     }
 
     private void setExpectedExecuteReturn(int expected)
@@ -3751,6 +3858,7 @@ public abstract class MithraAbstractDatabaseObject
     protected void zDelete(MithraDataObject dataToDelete) throws MithraDatabaseException
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         Object source = this.getSourceAttributeValueFromObjectGeneric(dataToDelete);
         String sql = "delete from " + this.getFullyQualifiedTableNameGenericSource(source);
 
@@ -3789,6 +3897,7 @@ public abstract class MithraAbstractDatabaseObject
             this.closeStatementAndConnection(con, stm);
         }
         this.getPerformanceData().recordTimeForDelete(1, startTime);
+        this.recordMetric(ReladomoMetricType.DELETE, startNanos, 1);
     }
 
     protected void checkDeletedRows(int deletedRows, MithraDataObject data)
@@ -4564,6 +4673,7 @@ public abstract class MithraAbstractDatabaseObject
     protected void zBatchUpdate(BatchUpdateOperation batchUpdateOperation)
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         List<UpdateOperation> updateOperations = batchUpdateOperation.getUpdateOperations();
         Attribute sourceAttribute = this.getMithraObjectPortal().getFinder().getSourceAttribute();
         if (sourceAttribute != null)
@@ -4580,6 +4690,7 @@ public abstract class MithraAbstractDatabaseObject
             this.zBatchUpdateForSameSourceAttribute(updateOperations, batchUpdateOperation);
         }
         this.getPerformanceData().recordTimeForUpdate(updateOperations.size(), startTime);
+        this.recordMetric(ReladomoMetricType.BATCH_UPDATE, startNanos, updateOperations.size());
     }
 
     protected List<List> segregateUpdatesBySourceAttribute(List updateOperations, Attribute sourceAttribute)
@@ -4604,6 +4715,7 @@ public abstract class MithraAbstractDatabaseObject
     protected void zBatchInsert(List mithraObjects, int bulkInsertThreshold) throws MithraDatabaseException
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         Attribute sourceAttribute = this.getMithraObjectPortal().getFinder().getSourceAttribute();
         if (sourceAttribute != null)
         {
@@ -4619,6 +4731,7 @@ public abstract class MithraAbstractDatabaseObject
             this.zBatchInsertForSameSourceAttribute(mithraObjects, bulkInsertThreshold);
         }
         this.getPerformanceData().recordTimeForInsert(mithraObjects.size(), startTime);
+        this.recordMetric(ReladomoMetricType.BATCH_INSERT, startNanos, mithraObjects.size());
     }
 
     protected void zBatchInsertForSameSourceAttribute(List mithraObjects, int bulkInsertThreshold)
@@ -4822,6 +4935,7 @@ public abstract class MithraAbstractDatabaseObject
     protected void zBatchDelete(List mithraObjects, boolean checkCount) throws MithraDatabaseException
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         Attribute sourceAttribute = this.getMithraObjectPortal().getFinder().getSourceAttribute();
         if (sourceAttribute != null)
         {
@@ -4837,6 +4951,7 @@ public abstract class MithraAbstractDatabaseObject
             batchDeleteForSameSourceAttribute(mithraObjects, checkCount);
         }
         this.getPerformanceData().recordTimeForDelete(mithraObjects.size(), startTime);
+        this.recordMetric(ReladomoMetricType.BATCH_DELETE, startNanos, mithraObjects.size());
     }
 
     protected void batchDeleteForSameSourceAttribute(List mithraObjects, boolean checkCount) throws MithraDatabaseException
@@ -5115,8 +5230,10 @@ public abstract class MithraAbstractDatabaseObject
     protected void zMultiUpdate(MultiUpdateOperation multiUpdateOperation)
     {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         this.multiUpdateForSameSourceAttribute(multiUpdateOperation);
         this.getPerformanceData().recordTimeForUpdate(multiUpdateOperation.getMithraObjects().size(), startTime);
+        this.recordMetric(ReladomoMetricType.MULTI_UPDATE, startNanos, multiUpdateOperation.getMithraObjects().size());
     }
 
     private void multiUpdateForSameSourceAttribute(MultiUpdateOperation multiUpdateOperation)
@@ -113,22 +113,35 @@ public abstract class MithraAbstractDatedDatabaseObject
         private Timestamp asOfDates[];
         private ObjectWithMapperStack asOfOpWithStacks[];
 
-        public DatedCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean forceImplicitJoin)
+        public DatedCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean forceImplicitJoin, boolean bypassObjectCache)
         {
-            super(analyzedOperation, postLoadFilter, orderby, rowcount, forceImplicitJoin);
+            super(analyzedOperation, postLoadFilter, orderby, rowcount, forceImplicitJoin, bypassObjectCache);
             asOfDates = getAsOfDates();
             asOfOpWithStacks = getAsOfOpWithStacks(query, analyzedOperation);
         }
 
         protected Object getObject(ResultSet res, Object source) throws SQLException
         {
+            long start = this.startStage();
             MithraDataObject newData = inflateDataGenericSource(res, source, this.getDatabaseType());
             if (!this.matchesPostLoadOperation(newData))
             {
+                this.endInflateStage(start);
                 return null;
             }
             inflateAsOfDatesGenericSource(newData, res, getTotalColumnsInResultSet() + 1, asOfDates, asOfOpWithStacks, source, this.getDatabaseType());
-            return cache.getObjectFromDataWithoutCaching(newData, asOfDates);
+            long inflated = this.endInflateStage(start);
+            Object result;
+            if (this.isBypassObjectCache())
+            {
+                result = ((MithraDatedObjectFactory) MithraAbstractDatedDatabaseObject.this).createObject(newData, asOfDates);
+            }
+            else
+            {
+                result = cache.getObjectFromDataWithoutCaching(newData, asOfDates);
+            }
+            this.endIndexStage(inflated);
+            return result;
         }
 
         protected String getStatement(DatabaseType dt, SqlQuery query, AnalyzedOperation analyzedOperation, int rowCount)
@@ -138,9 +151,9 @@ public abstract class MithraAbstractDatedDatabaseObject
     }
 
     @Override
-    public Cursor findCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin)
+    public Cursor findCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin, boolean bypassObjectCache)
     {
-        return new DatedCursor(analyzedOperation, postLoadFilter, orderby, rowcount, forceImplicitJoin);
+        return new DatedCursor(analyzedOperation, postLoadFilter, orderby, rowcount, forceImplicitJoin, bypassObjectCache);
     }
 
     protected boolean processResultSet(ResultSet res, MithraFastList result, Object source,
@@ -48,6 +48,7 @@ import java.util.TimeZone;
 public abstract class AbstractDatabaseType implements DatabaseType
 {
     protected static final int MAX_CLAUSES = 240; // from sybase
+    protected static final boolean ARRAY_BINDING_FOR_LARGE_IN = Boolean.parseBoolean(System.getProperty("mithra.sql.arrayBindingForLargeIn", "true"));
     private static final ThreadLocal calendarInstance = new ThreadLocal();
     private static final ThreadLocal calendarInstanceUtc = new ThreadLocal();
     private static final char[] STANDARD_SQL_META_CHARS = {'=', '%', '_'};
@@ -734,6 +735,11 @@ public abstract class AbstractDatabaseType implements DatabaseType
         return 4*this.getMaxClauses();
     }
 
+    public LargeInClauseStrategy getLargeInClauseStrategy()
+    {
+        return TempTableInClauseStrategy.getInstance();
+    }
+
     public boolean indexRequiresSchemaName()
     {
         return true;
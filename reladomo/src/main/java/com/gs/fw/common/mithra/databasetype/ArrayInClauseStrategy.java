@@ -0,0 +1,198 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.databasetype;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds large int, long and String in-clauses as a single JDBC array, falling back to temp tables for sizes where
+ * that has been measured to be faster.
+ * <p>
+ * Set sizes are grouped into power of two buckets. For each bucket, the strategy keeps an exponentially weighted
+ * average of the query time per value for both approaches. Until a bucket has a few array samples, arrays are used.
+ * After that, every {@link #PROBE_INTERVAL}th query in the bucket uses the approach that is currently losing, so the
+ * choice follows changes in data and load; all other queries use the cheaper one. The effective threshold between
+ * arrays and temp tables is therefore whatever the database's own timings say it is.
+ */
+public class ArrayInClauseStrategy implements LargeInClauseStrategy
+{
+    public static final int PROBE_INTERVAL = 64;
+
+    private static final int MIN_SAMPLES = 4;
+    private static final double WEIGHT = 0.2;
+
+    private final String intArrayType;
+    private final String longArrayType;
+    private final String stringArrayType;
+    private final String intSubSelect;
+    private final String longSubSelect;
+    private final String stringSubSelect;
+    private final int maxArraySize;
+    private final SizeBucket[] buckets = new SizeBucket[32];
+
+    /**
+     * @param subSelect a sub-select over a single array parameter, e.g. "select unnest(cast(? as %s[]))";
+     * a %s is replaced with the element type name
+     * @param intArrayType the element type name passed to {@link Connection#createArrayOf} for int values
+     * @param longArrayType the element type name for long values
+     * @param stringArrayType the element type name for String values
+     */
+    public ArrayInClauseStrategy(String subSelect, String intArrayType, String longArrayType, String stringArrayType)
+    {
+        this(subSelect, intArrayType, longArrayType, stringArrayType, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxArraySize the largest array the database accepts; larger sets always use temp tables
+     */
+    public ArrayInClauseStrategy(String subSelect, String intArrayType, String longArrayType, String stringArrayType, int maxArraySize)
+    {
+        this.maxArraySize = maxArraySize;
+        this.intArrayType = intArrayType;
+        this.longArrayType = longArrayType;
+        this.stringArrayType = stringArrayType;
+        this.intSubSelect = String.format(subSelect, intArrayType);
+        this.longSubSelect = String.format(subSelect, longArrayType);
+        this.stringSubSelect = String.format(subSelect, stringArrayType);
+        for (int i = 0; i < buckets.length; i++)
+        {
+            buckets[i] = new SizeBucket();
+        }
+    }
+
+    protected String getArrayTypeName(Class valueType)
+    {
+        if (valueType == Integer.class)
+        {
+            return this.intArrayType;
+        }
+        if (valueType == Long.class)
+        {
+            return this.longArrayType;
+        }
+        if (valueType == String.class)
+        {
+            return this.stringArrayType;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean bindAsArray(Class valueType, int setSize)
+    {
+        return setSize <= this.maxArraySize && this.getArrayTypeName(valueType) != null && this.getBucket(setSize).preferArray();
+    }
+
+    @Override
+    public String getArraySubSelect(Class valueType)
+    {
+        if (valueType == Integer.class)
+        {
+            return this.intSubSelect;
+        }
+        return valueType == Long.class ? this.longSubSelect : this.stringSubSelect;
+    }
+
+    @Override
+    public void bindArray(PreparedStatement ps, int index, Class valueType, Object[] values) throws SQLException
+    {
+        ps.setArray(index, this.createArray(ps.getConnection(), this.getArrayTypeName(valueType), values));
+    }
+
+    protected Array createArray(Connection connection, String typeName, Object[] values) throws SQLException
+    {
+        return connection.createArrayOf(typeName, values);
+    }
+
+    @Override
+    public void recordExecution(boolean boundAsArray, int setSize, long elapsedNanos)
+    {
+        if (setSize > 0)
+        {
+            this.getBucket(setSize).record(boundAsArray, ((double) elapsedNanos) / setSize);
+        }
+    }
+
+    /**
+     * @return the current choice for the given size, ignoring exploration
+     */
+    public boolean isArrayPreferred(int setSize)
+    {
+        return this.getBucket(setSize).isArrayCheaper();
+    }
+
+    public double getAverageNanosPerValue(boolean boundAsArray, int setSize)
+    {
+        return this.getBucket(setSize).getAverage(boundAsArray);
+    }
+
+    private SizeBucket getBucket(int setSize)
+    {
+        return this.buckets[31 - Integer.numberOfLeadingZeros(Math.max(1, setSize))];
+    }
+
+    private static final class SizeBucket
+    {
+        private int arraySamples;
+        private int tempSamples;
+        private double arrayNanosPerValue;
+        private double tempNanosPerValue;
+        private long decisions;
+
+        private synchronized boolean preferArray()
+        {
+            long decision = this.decisions++;
+            if (this.arraySamples < MIN_SAMPLES)
+            {
+                return true;
+            }
+            boolean probe = decision % PROBE_INTERVAL == 0;
+            if (this.tempSamples < MIN_SAMPLES)
+            {
+                return !probe;
+            }
+            return probe != this.isArrayCheaper();
+        }
+
+        private synchronized boolean isArrayCheaper()
+        {
+            return this.tempSamples < MIN_SAMPLES || this.arrayNanosPerValue <= this.tempNanosPerValue;
+        }
+
+        private synchronized double getAverage(boolean boundAsArray)
+        {
+            return boundAsArray ? this.arrayNanosPerValue : this.tempNanosPerValue;
+        }
+
+        private synchronized void record(boolean boundAsArray, double nanosPerValue)
+        {
+            if (boundAsArray)
+            {
+                this.arrayNanosPerValue = this.arraySamples == 0 ? nanosPerValue : this.arrayNanosPerValue + WEIGHT * (nanosPerValue - this.arrayNanosPerValue);
+                this.arraySamples++;
+            }
+            else
+            {
+                this.tempNanosPerValue = this.tempSamples == 0 ? nanosPerValue : this.tempNanosPerValue + WEIGHT * (nanosPerValue - this.tempNanosPerValue);
+                this.tempSamples++;
+            }
+        }
+    }
+}
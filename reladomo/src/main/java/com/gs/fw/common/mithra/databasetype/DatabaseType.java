@@ -212,6 +212,8 @@ public interface DatabaseType extends CommonDatabaseType
 
     public int getUseTempTableThreshold();
 
+    public LargeInClauseStrategy getLargeInClauseStrategy();
+
     public boolean indexRequiresSchemaName();
 
     public boolean nonSharedTempTablesAreDroppedAutomatically();
@@ -45,6 +45,7 @@ public class H2DatabaseType extends AbstractDatabaseType
     private static final int DUPLICATE_KEY_1_ERROR_CODE = 23505;  // Newer H2 error code
     public static final int MAX_CLAUSES = 240;
     private static final H2DatabaseType instance = new H2DatabaseType();
+    private final LargeInClauseStrategy largeInClauseStrategy = new ArrayInClauseStrategy("select * from table(x %s = ?)", "INTEGER", "BIGINT", "VARCHAR", 65536);
     private static final IntIntHashMap sybaseToJDBCTypes;
     private static final Map<String, String> sqlToJavaTypes;
     private static final char[] H2_SQL_META_CHARS = {'=', '%', '_', '\\'};
@@ -187,6 +188,12 @@ public class H2DatabaseType extends AbstractDatabaseType
         return instance;
     }
 
+    @Override
+    public LargeInClauseStrategy getLargeInClauseStrategy()
+    {
+        return ARRAY_BINDING_FOR_LARGE_IN ? this.largeInClauseStrategy : super.getLargeInClauseStrategy();
+    }
+
     public String getPerStatementLock(boolean lock)
     {
 //        if (lock)
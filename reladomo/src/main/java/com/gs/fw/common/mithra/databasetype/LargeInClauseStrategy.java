@@ -0,0 +1,48 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.databasetype;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Decides how an in-clause that is too large for plain question marks is sent to the database.
+ * The default is to insert the values into a temp table ({@link TempTableInClauseStrategy}); databases that can
+ * bind an array as a single parameter can instead return a sub-select over that array.
+ */
+public interface LargeInClauseStrategy
+{
+    /**
+     * @param valueType the attribute's value type, e.g. Integer.class
+     * @param setSize the number of values in the in-clause
+     * @return true if the in-clause should be sent as a single array parameter instead of a temp table
+     */
+    public boolean bindAsArray(Class valueType, int setSize);
+
+    /**
+     * @return a sub-select with a single parameter that goes between the parentheses of "column in ( )"
+     */
+    public String getArraySubSelect(Class valueType);
+
+    public void bindArray(PreparedStatement ps, int index, Class valueType, Object[] values) throws SQLException;
+
+    /**
+     * Called after a query that had a large in-clause has finished, with the time from the start of the temp table
+     * or array setup through statement execution and reading the results. Cursors are not reported.
+     */
+    public void recordExecution(boolean boundAsArray, int setSize, long elapsedNanos);
+}
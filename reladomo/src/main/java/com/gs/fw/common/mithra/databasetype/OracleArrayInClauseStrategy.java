@@ -0,0 +1,69 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.databasetype;
+
+import java.lang.reflect.Method;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Oracle doesn't implement {@link Connection#createArrayOf}; arrays have to be built against a named collection type
+ * through the driver's own API. The built-in SYS.ODCINUMBERLIST and SYS.ODCIVARCHAR2LIST types are used so that no
+ * schema objects need to be created. The driver is called reflectively, as it's not a compile time dependency.
+ */
+public class OracleArrayInClauseStrategy extends ArrayInClauseStrategy
+{
+    private static final String[] CREATE_ARRAY_METHODS = { "createOracleArray", "createARRAY" };
+
+    public OracleArrayInClauseStrategy()
+    {
+        // both types are VARRAY(32767)
+        super("select column_value from table(?)", "SYS.ODCINUMBERLIST", "SYS.ODCINUMBERLIST", "SYS.ODCIVARCHAR2LIST", 32767);
+    }
+
+    @Override
+    protected Array createArray(Connection connection, String typeName, Object[] values) throws SQLException
+    {
+        try
+        {
+            Class oracleConnectionClass = Class.forName("oracle.jdbc.OracleConnection", true, connection.getClass().getClassLoader());
+            Object oracleConnection = connection.unwrap(oracleConnectionClass);
+            for (String methodName : CREATE_ARRAY_METHODS)
+            {
+                try
+                {
+                    Method method = oracleConnectionClass.getMethod(methodName, String.class, Object.class);
+                    return (Array) method.invoke(oracleConnection, typeName, values);
+                }
+                catch (NoSuchMethodException e)
+                {
+                    // try the next one
+                }
+            }
+            throw new SQLException("Oracle driver does not support creating arrays");
+        }
+        catch (SQLException e)
+        {
+            throw e;
+        }
+        catch (Exception e)
+        {
+            throw new SQLException("Could not create Oracle array of type " + typeName, e);
+        }
+    }
+}
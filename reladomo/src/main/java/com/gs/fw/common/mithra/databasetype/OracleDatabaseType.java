@@ -40,6 +40,7 @@ public class OracleDatabaseType extends AbstractDatabaseType
     public static final int MAX_CLAUSES = 240;
     private static final OracleDatabaseType instance = new OracleDatabaseType();
     private static final OracleDatabaseType instance12 = new OracleDatabaseType(true);
+    private final LargeInClauseStrategy largeInClauseStrategy = new OracleArrayInClauseStrategy();
     private static final Map<String, String> sqlToJavaTypes;
 
 
@@ -186,6 +187,12 @@ public class OracleDatabaseType extends AbstractDatabaseType
         return instance12;
     }
 
+    @Override
+    public LargeInClauseStrategy getLargeInClauseStrategy()
+    {
+        return ARRAY_BINDING_FOR_LARGE_IN ? this.largeInClauseStrategy : super.getLargeInClauseStrategy();
+    }
+
     public String getPerStatementLock(boolean lock)
     {
         // note: include " OF + {columnName} "
@@ -46,6 +46,7 @@ public class PostgresDatabaseType extends AbstractDatabaseType
     private static final String DUPLICATE_ERROR_CODE = "23505";
     public static final int MAX_CLAUSES = 240;
     private static final PostgresDatabaseType instance = new PostgresDatabaseType();
+    private final LargeInClauseStrategy largeInClauseStrategy = new ArrayInClauseStrategy("select unnest(cast(? as %s[]))", "int4", "int8", "varchar");
     private String tempSchema = null;
     private static final char[] POSTGRES_SQL_META_CHARS = {'=', '%', '_', '\\'};
     private static final Map<String, String> sqlToJavaTypes;
@@ -167,6 +168,12 @@ public class PostgresDatabaseType extends AbstractDatabaseType
         return instance;
     }
 
+    @Override
+    public LargeInClauseStrategy getLargeInClauseStrategy()
+    {
+        return ARRAY_BINDING_FOR_LARGE_IN ? this.largeInClauseStrategy : super.getLargeInClauseStrategy();
+    }
+
     public String getPerStatementLock(boolean lock)
     {
 //        if (lock)
@@ -0,0 +1,58 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.databasetype;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public class TempTableInClauseStrategy implements LargeInClauseStrategy
+{
+    private static final TempTableInClauseStrategy instance = new TempTableInClauseStrategy();
+
+    public static TempTableInClauseStrategy getInstance()
+    {
+        return instance;
+    }
+
+    protected TempTableInClauseStrategy()
+    {
+    }
+
+    @Override
+    public boolean bindAsArray(Class valueType, int setSize)
+    {
+        return false;
+    }
+
+    @Override
+    public String getArraySubSelect(Class valueType)
+    {
+        throw new UnsupportedOperationException("array binding is not supported");
+    }
+
+    @Override
+    public void bindArray(PreparedStatement ps, int index, Class valueType, Object[] values) throws SQLException
+    {
+        throw new UnsupportedOperationException("array binding is not supported");
+    }
+
+    @Override
+    public void recordExecution(boolean boundAsArray, int setSize, long elapsedNanos)
+    {
+        // nothing to learn
+    }
+}
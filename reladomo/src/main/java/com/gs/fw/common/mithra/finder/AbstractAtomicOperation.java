@@ -29,7 +29,7 @@ import com.gs.fw.common.mithra.cache.Cache;
 import com.gs.fw.common.mithra.cache.IndexReference;
 import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.notification.MithraDatabaseIdentifierExtractor;
-import com.gs.fw.common.mithra.util.DoUntilProcedure;
+import com.gs.fw.common.mithra.util.Filter;
 import com.gs.fw.common.mithra.util.InternalList;
 import com.gs.fw.common.mithra.util.MithraCpuBoundThreadPool;
 import com.gs.fw.common.mithra.util.MithraFastList;
@@ -131,9 +131,7 @@ public abstract class AbstractAtomicOperation implements AtomicOperation, SqlPar
             {
                 return null;
             }
-            ForAllMatchProcedure procedure = new ForAllMatchProcedure();
-            this.getCache().forAll(procedure);
-            return procedure.getResult();
+            return this.getCache().getAll(new MatchFilter());
         }
     }
 
@@ -356,19 +354,11 @@ public abstract class AbstractAtomicOperation implements AtomicOperation, SqlPar
         return false;
     }
 
-    protected class ForAllMatchProcedure implements DoUntilProcedure
+    protected class MatchFilter implements Filter
     {
-        private MithraFastList result = new MithraFastList();
-
-        public boolean execute(Object o)
-        {
-            if (matches(o)) result.add(o);
-            return false;
-        }
-
-        public MithraFastList getResult()
+        public boolean matches(Object o)
         {
-            return result;
+            return AbstractAtomicOperation.this.matches(o);
         }
     }
 
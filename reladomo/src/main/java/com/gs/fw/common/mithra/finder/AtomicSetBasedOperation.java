@@ -66,8 +66,9 @@ public abstract class AtomicSetBasedOperation extends AbstractAtomicOperation im
         }
         else
         {
-            StringBuilder buffer = new StringBuilder(this.getSetSize() * 2);
-            for (int i = 0; i < this.getSetSize() - 1; i++)
+            int questionMarks = query.getInClauseQuestionMarkCount(this.getSetSize());
+            StringBuilder buffer = new StringBuilder(questionMarks * 2);
+            for (int i = 0; i < questionMarks - 1; i++)
             {
                 buffer.append("?,");
             }
@@ -82,7 +83,15 @@ public abstract class AtomicSetBasedOperation extends AbstractAtomicOperation im
         int start = 0;
         int valuesSet = 0;
         int numberToSet = this.getSetSize();
+        int padding = 0;
         populateCopiedArray();
+        if (query.isArrayBound(this))
+        {
+            DatabaseType databaseType = query.getDatabaseType();
+            Class valueType = this.getAttribute().valueType();
+            databaseType.getLargeInClauseStrategy().bindArray(pstmt, startIndex, valueType, this.getSetValuesForArrayBinding(valueType));
+            return 1;
+        }
         if (query.hasChunkedUnions(this))
         {
             int union = query.getCurrentUnionNumber();
@@ -93,9 +102,17 @@ public abstract class AtomicSetBasedOperation extends AbstractAtomicOperation im
             numberToSet = numberOfQuestions;
             if (start + numberToSet > this.getSetSize()) numberToSet = this.getSetSize() - start;
         }
+        else
+        {
+            padding = query.getInClauseQuestionMarkCount(numberToSet) - numberToSet;
+        }
         if (!query.isSubSelectInstead(this))
         {
             valuesSet += this.setSqlParameters(pstmt, startIndex+valuesSet, query.getTimeZone(), start, numberToSet, query.getDatabaseType());
+            for (int i = 0; i < padding; i++)
+            {
+                valuesSet += this.setSqlParameters(pstmt, startIndex+valuesSet, query.getTimeZone(), start + numberToSet - 1, 1, query.getDatabaseType());
+            }
         }
         return valuesSet;
     }
@@ -111,6 +128,28 @@ public abstract class AtomicSetBasedOperation extends AbstractAtomicOperation im
 
     protected abstract void populateCopiedArray();
 
+    private Object[] getSetValuesForArrayBinding(Class valueType)
+    {
+        int size = this.getSetSize();
+        Object[] values;
+        if (valueType == Integer.class)
+        {
+            values = new Integer[size];
+            for (int i = 0; i < size; i++) values[i] = this.getSetValueAsInt(i);
+        }
+        else if (valueType == Long.class)
+        {
+            values = new Long[size];
+            for (int i = 0; i < size; i++) values[i] = this.getSetValueAsLong(i);
+        }
+        else
+        {
+            values = new String[size];
+            for (int i = 0; i < size; i++) values[i] = this.getSetValueAsString(i);
+        }
+        return values;
+    }
+
     public boolean getSetValueAsBoolean(int index)
     {
         throw new RuntimeException("not implemented");
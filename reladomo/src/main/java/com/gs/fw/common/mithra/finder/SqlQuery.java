@@ -22,6 +22,7 @@ import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.attribute.TemporalAttribute;
 import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import com.gs.fw.common.mithra.databasetype.LargeInClauseStrategy;
 import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
 import com.gs.fw.common.mithra.finder.orderby.OrderBy;
 import com.gs.fw.common.mithra.notification.MithraDatabaseIdentifierExtractor;
@@ -47,6 +48,8 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
     private static final Logger logger = LoggerFactory.getLogger(SqlQuery.class);
     public static final String DEFAULT_DATABASE_ALIAS = MithraDatabaseIdentifierExtractor.DEFAULT_DATABASE_ALIAS;
     private static final int CHARS_PER_TABLE_NAME = 20;
+    private static final boolean PAD_IN_CLAUSES = Boolean.parseBoolean(System.getProperty("mithra.sql.padInClauses", "true"));
+    private static final int MAX_UNPADDED_IN_CLAUSE = 8;
 
     private WhereClause whereClause = new WhereClause(this);
     private StringBuilder orderByClause = null;
@@ -61,6 +64,7 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
     private OrderBy orderby;
     private int clauseCount;
     private int totalInClauseParameters = 0;
+    private boolean padInClauses;
     private int numberOfChunksPerIn = 0;
     private int numberOfUnions = 1;
     private int numberOfQueries = 0;
@@ -83,6 +87,10 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
     private boolean disableTempTableJoin;
     private InternalList tupleTempContextList;
     private UnifiedSet subSelectedInClauses;
+    private UnifiedSet arrayBoundInClauses;
+    private InternalList tempTableInClauses;
+    private UnifiedMap<SetBasedAtomicOperation, Long> largeInClauseStartNanos;
+    private boolean largeInClauseTimingDisabled;
     private String extraSelectColumns;
     private boolean isParallel = false;
     private UnifiedMap<String, String> derivedColumnSubstitutionMap;
@@ -217,6 +225,8 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
                 }
             }
         }
+        // padding adds less than a quarter to each in-clause, so the whole query stays under the limit
+        this.padInClauses = PAD_IN_CLAUSES && clauseCount + (clauseCount >> 2) <= this.databaseType.getMaxSearchableArguments();
         boolean queryHasOrderBy = orderby != null && (orderby.mustUseServerSideOrderBy() || this.forceServerSideOrderBy);
 
 		op.generateSql(this);
@@ -672,6 +682,30 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
         return this.numberOfUnions;
     }
 
+    /**
+     * In-clauses generated inline are padded to a few bucketed sizes (the last value is bound repeatedly),
+     * so that queries differing only by the number of values share the same sql and prepared statement.
+     * @return the number of question marks to generate for an inline in-clause of the given size
+     */
+    public int getInClauseQuestionMarkCount(int setSize)
+    {
+        return this.padInClauses ? bucketInClauseSize(setSize) : setSize;
+    }
+
+    /**
+     * Sizes up to 8 are kept; larger sizes are rounded up to a multiple of a quarter of the enclosing power of two
+     * (10, 12, 14, 16, 20, 24, 28, 32, 40, ...), which wastes at most a quarter of the parameters.
+     */
+    public static int bucketInClauseSize(int setSize)
+    {
+        if (setSize <= MAX_UNPADDED_IN_CLAUSE)
+        {
+            return setSize;
+        }
+        int step = Integer.highestOneBit(setSize - 1) >> 2;
+        return ((setSize + step - 1) / step) * step;
+    }
+
     public boolean hasChunkedUnions(SetBasedAtomicOperation setBasedAtomicOperation)
     {
         return this.largeInClause != null && this.largeInClause.getOp().equals(setBasedAtomicOperation);
@@ -750,7 +784,7 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
                 int setSize = opAndPosition.getOp().getSetSize();
                 if ((opAndPosition.isInsideAggregateJoin() || setSize > this.databaseType.getUseTempTableThreshold()))
                 {
-                    replaceSetBasedWithTemp(opAndPosition);
+                    countSoFar += replaceLargeSetBasedOperation(opAndPosition);
                     totalInClauseLeft -= setSize;
                 }
                 else
@@ -766,8 +800,8 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
                     }
                     else
                     {
-                        // use temp table
-                        replaceSetBasedWithTemp(opAndPosition);
+                        // use temp table or array
+                        countSoFar += replaceLargeSetBasedOperation(opAndPosition);
                         totalInClauseLeft -= setSize;
                     }
                 }
@@ -805,6 +839,64 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
         return tempTableNumber++;
     }
 
+    /**
+     * @return the number of parameters used by the replacement: 1 for an array, 0 for a temp table
+     */
+    private int replaceLargeSetBasedOperation(SetBasedOpAndPosition largeOpAndPosition)
+    {
+        SetBasedAtomicOperation largeOp = largeOpAndPosition.getOp();
+        if (!largeOpAndPosition.isInsideAggregateJoin() && largeOp instanceof AtomicSetBasedOperation)
+        {
+            LargeInClauseStrategy strategy = this.databaseType.getLargeInClauseStrategy();
+            Class valueType = ((AtomicSetBasedOperation) largeOp).getAttribute().valueType();
+            startLargeInClauseTiming(largeOp);
+            if (strategy.bindAsArray(valueType, largeOp.getSetSize()))
+            {
+                if (arrayBoundInClauses == null) arrayBoundInClauses = new UnifiedSet(4);
+                arrayBoundInClauses.add(largeOp);
+                insertSubSelectForSetBasedOp(largeOpAndPosition, strategy.getArraySubSelect(valueType));
+                return 1;
+            }
+            if (tempTableInClauses == null) tempTableInClauses = new InternalList(4);
+            tempTableInClauses.add(largeOp);
+            replaceSetBasedWithTemp(largeOpAndPosition);
+            return 0;
+        }
+        replaceSetBasedWithTemp(largeOpAndPosition);
+        return 0;
+    }
+
+    /**
+     * the clock for a large in-clause runs from here, before the temp table is created or the array sub-select is
+     * generated, until the statements for the source have been executed and their results read, so both approaches
+     * are measured over the same span
+     */
+    private void startLargeInClauseTiming(SetBasedAtomicOperation largeOp)
+    {
+        if (largeInClauseStartNanos == null) largeInClauseStartNanos = new UnifiedMap<SetBasedAtomicOperation, Long>(4);
+        if (!largeInClauseStartNanos.containsKey(largeOp))
+        {
+            largeInClauseStartNanos.put(largeOp, System.nanoTime());
+        }
+    }
+
+    /**
+     * @return the time since the in-clause's clock was started, or -1 if it was already reported
+     */
+    private long removeLargeInClauseNanos(SetBasedAtomicOperation largeOp, long endNanos)
+    {
+        Long start = largeInClauseStartNanos == null ? null : largeInClauseStartNanos.remove(largeOp);
+        return start == null ? -1 : endNanos - start;
+    }
+
+    /**
+     * a cursor's results are read at the caller's pace, so its large in-clauses are not reported to the strategy
+     */
+    public void setLargeInClauseTimingDisabled(boolean disabled)
+    {
+        this.largeInClauseTimingDisabled = disabled;
+    }
+
     private void replaceSetBasedWithTemp(SetBasedOpAndPosition largeOpAndPosition)
     {
         SetBasedAtomicOperation largeOp = largeOpAndPosition.getOp();
@@ -1047,6 +1139,11 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
         return this.subSelectedInClauses != null && subSelectedInClauses.contains(operation);
     }
 
+    public boolean isArrayBound(SetBasedAtomicOperation operation)
+    {
+        return this.arrayBoundInClauses != null && arrayBoundInClauses.contains(operation);
+    }
+
     public void setDisableTempTableJoin(boolean disable)
     {
         this.disableTempTableJoin = disable;
@@ -1054,6 +1151,7 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
 
     public void cleanTempForSource(int sourceNum, DatabaseType dt)
     {
+        long endNanos = System.nanoTime();
         if (tupleTempContextList != null)
         {
             for(int i=0;i<tupleTempContextList.size();i++)
@@ -1070,6 +1168,37 @@ public class SqlQuery implements MapperStack, WhereClause.WhereClauseOwner
             tupleTempContextList.clear();
             if (subSelectedInClauses != null) subSelectedInClauses.clear();
         }
+        recordLargeInClauseExecution(dt, endNanos);
+    }
+
+    private void recordLargeInClauseExecution(DatabaseType dt, long endNanos)
+    {
+        boolean hasArrays = arrayBoundInClauses != null && !arrayBoundInClauses.isEmpty();
+        boolean hasTempTables = tempTableInClauses != null && !tempTableInClauses.isEmpty();
+        if (hasArrays || hasTempTables)
+        {
+            LargeInClauseStrategy strategy = dt.getLargeInClauseStrategy();
+            if (hasArrays)
+            {
+                for (Object op : arrayBoundInClauses)
+                {
+                    SetBasedAtomicOperation largeOp = (SetBasedAtomicOperation) op;
+                    long nanos = removeLargeInClauseNanos(largeOp, endNanos);
+                    if (nanos >= 0 && !largeInClauseTimingDisabled) strategy.recordExecution(true, largeOp.getSetSize(), nanos);
+                }
+                arrayBoundInClauses.clear();
+            }
+            if (hasTempTables)
+            {
+                for (int i = 0; i < tempTableInClauses.size(); i++)
+                {
+                    SetBasedAtomicOperation largeOp = (SetBasedAtomicOperation) tempTableInClauses.get(i);
+                    long nanos = removeLargeInClauseNanos(largeOp, endNanos);
+                    if (nanos >= 0 && !largeInClauseTimingDisabled) strategy.recordExecution(false, largeOp.getSetSize(), nanos);
+                }
+                tempTableInClauses.clear();
+            }
+        }
     }
 
     public void generateJoinSql(String fullyQualifiedLeftColumnName, String fullyQualifiedRightHandColumn, String operator)
@@ -22,6 +22,8 @@ import com.gs.fw.common.mithra.MithraTransactionalList;
 import com.gs.fw.common.mithra.cache.Index;
 import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
 import com.gs.fw.common.mithra.finder.DeepFetchNode;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.list.cursor.ListCursor;
 import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
 import com.gs.fw.common.mithra.querycache.CachedQuery;
 import com.gs.fw.common.mithra.util.DoWhileProcedure;
@@ -74,6 +76,11 @@ public class AbstractNonOperationBasedList<E> implements MithraDelegatedList<E>
         getFastList(delegatingList).forceResolve();
     }
 
+    public boolean resolveInMemory(DelegatingList<E> delegatingList)
+    {
+        return true;
+    }
+
     public boolean isStale(DelegatingList delegatingList)
     {
         return false;
@@ -195,6 +202,11 @@ public class AbstractNonOperationBasedList<E> implements MithraDelegatedList<E>
         this.getFastList(delegatingList).forEachWithCursor(closure, postLoadOperation);
     }
 
+    public Cursor iteratorWithCursor(DelegatingList delegatingList, Filter postLoadFilter, boolean bypassObjectCache)
+    {
+        return new ListCursor(this.getFastList(delegatingList), postLoadFilter);
+    }
+
     public void zMarkMoved(DelegatingList delegatingList, Object item)
     {
         getFastList(delegatingList).zMarkMoved(item);
@@ -30,6 +30,7 @@ import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
 import com.gs.fw.common.mithra.finder.orderby.OrderBy;
 import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.list.cursor.ListCursor;
 import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
 import com.gs.fw.common.mithra.notification.MithraDatabaseIdentifierExtractor;
 import com.gs.fw.common.mithra.notification.listener.MithraApplicationNotificationListener;
@@ -233,12 +234,42 @@ public class AbstractOperationBasedList<E> implements MithraDelegatedList<E>, Se
     }
 
     private Cursor createCursor(DelegatingList delegatingList, Filter postLoadList)
+    {
+        return this.createCursor(delegatingList, postLoadList, false);
+    }
+
+    private Cursor createCursor(DelegatingList delegatingList, Filter postLoadList, boolean bypassObjectCache)
     {
         synchronized (delegatingList)
         {
             return delegatingList.getOperation().getResultObjectPortal().findCursorFromServer(delegatingList.getOperation(),
                     postLoadList, delegatingList.getOrderBy(), this.maxObjectsToRetrieve, delegatingList.isBypassCache(),
-                    this.getNumberOfParallelThreads(), this.forceImplicitJoin);
+                    this.getNumberOfParallelThreads(), this.forceImplicitJoin, bypassObjectCache);
+        }
+    }
+
+    /**
+     * Unlike resolveOperationInMemory, this does not look in the query cache of a partially cached portal,
+     * nor does it attach the result to the list.
+     */
+    private List resolveFullyCachedOperationInMemory(DelegatingList<E> delegatingList)
+    {
+        synchronized (delegatingList)
+        {
+            if (this.isOperationResolved(delegatingList))
+            {
+                return this.getResolved(delegatingList).getResult();
+            }
+            MithraObjectPortal portal = delegatingList.getOperation().getResultObjectPortal();
+            if (!delegatingList.isBypassCache() && !portal.isCacheDisabled() && !portal.isPartiallyCached())
+            {
+                CachedQuery resolved = portal.zFindInMemory(delegatingList.getOperation(), delegatingList.getOrderBy());
+                if (resolved != null)
+                {
+                    return resolved.getResult();
+                }
+            }
+            return null;
         }
     }
 
@@ -315,6 +346,11 @@ public class AbstractOperationBasedList<E> implements MithraDelegatedList<E>, Se
         this.resolveOperation(delegatingList);
     }
 
+    public boolean resolveInMemory(DelegatingList<E> delegatingList)
+    {
+        return this.resolveOperationInMemory(delegatingList) != null;
+    }
+
     public MithraDelegatedList registerForNotification(DelegatingList delegatingList, MithraApplicationNotificationListener listener)
     {
         AbstractOperationBasedList result = copyIfDefault();
@@ -408,6 +444,16 @@ public class AbstractOperationBasedList<E> implements MithraDelegatedList<E>, Se
         }
     }
 
+    public Cursor iteratorWithCursor(DelegatingList delegatingList, Filter postLoadFilter, boolean bypassObjectCache)
+    {
+        List resolvedResult = this.resolveFullyCachedOperationInMemory(delegatingList);
+        if (resolvedResult != null)
+        {
+            return new ListCursor(resolvedResult, postLoadFilter);
+        }
+        return this.createCursor(delegatingList, postLoadFilter, bypassObjectCache);
+    }
+
     public void zMarkMoved(DelegatingList delegatingList, Object item)
     {
         throw new RuntimeException("should not get here");
@@ -54,6 +54,8 @@ import com.gs.fw.common.mithra.finder.DeepFetchNode;
 import com.gs.fw.common.mithra.finder.DeepRelationshipAttribute;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.list.cursor.CursorSpliterator;
 import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
 import com.gs.fw.common.mithra.notification.listener.MithraApplicationNotificationListener;
 import com.gs.fw.common.mithra.tempobject.TupleTempContext;
@@ -61,6 +63,7 @@ import com.gs.fw.common.mithra.util.DoWhileProcedure;
 import com.gs.fw.common.mithra.util.Filter;
 import com.gs.fw.common.mithra.util.KeyWithHashStrategy;
 import com.gs.fw.common.mithra.util.ListFactory;
+import com.gs.fw.common.mithra.util.MithraAsyncQueryExecutor;
 import com.gs.fw.common.mithra.util.MultiHashMap;
 import com.gs.fw.common.mithra.util.OperationBasedFilter;
 import com.gs.fw.common.mithra.util.StatisticCounter;
@@ -82,6 +85,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public abstract class DelegatingList<E> implements MithraList<E>
 {
@@ -306,6 +313,38 @@ public abstract class DelegatingList<E> implements MithraList<E>
         delegated.forEachWithCursor(this, closure, postLoadFilter);
     }
 
+    public Cursor iteratorWithCursor()
+    {
+        return this.iteratorWithCursor(null, false);
+    }
+
+    public Cursor iteratorWithCursor(Filter postLoadFilter, boolean bypassObjectCache)
+    {
+        if (this.listOptions != null && this.listOptions.deepFetchRoot != null)
+        {
+            throw new MithraBusinessException("The list cursor iteration doesn't support the deep-fetch feature.");
+        }
+
+        return delegated.iteratorWithCursor(this, postLoadFilter, bypassObjectCache);
+    }
+
+    public Stream<E> streamWithCursor()
+    {
+        return this.streamWithCursor(null, false);
+    }
+
+    public Stream<E> streamWithCursor(Filter postLoadFilter, boolean bypassObjectCache)
+    {
+        final CursorSpliterator<E> spliterator = new CursorSpliterator<E>(this.iteratorWithCursor(postLoadFilter, bypassObjectCache));
+        return StreamSupport.stream(spliterator, false).onClose(new Runnable()
+        {
+            public void run()
+            {
+                spliterator.close();
+            }
+        });
+    }
+
     public Iterator<E> iterator()
     {
         return delegated.iterator(this);
@@ -441,6 +480,39 @@ public abstract class DelegatingList<E> implements MithraList<E>
         return this.zGetDelegated().count(this);
     }
 
+    public CompletableFuture<MithraList<E>> findAsync()
+    {
+        Callable<MithraList<E>> resolve = new Callable<MithraList<E>>()
+        {
+            public MithraList<E> call()
+            {
+                forceResolve();
+                return DelegatingList.this;
+            }
+        };
+        if (!this.isOperationBased() || (this.getDeepFetchedRelationships() == null && this.zGetDelegated().resolveInMemory(this)))
+        {
+            return MithraAsyncQueryExecutor.completeNow(resolve);
+        }
+        return MithraAsyncQueryExecutor.getInstance().submit(this.getOperation().getResultObjectPortal(), resolve);
+    }
+
+    public CompletableFuture<Integer> countAsync()
+    {
+        Callable<Integer> count = new Callable<Integer>()
+        {
+            public Integer call()
+            {
+                return count();
+            }
+        };
+        if (!this.isOperationBased() || this.zGetDelegated().resolveInMemory(this))
+        {
+            return MithraAsyncQueryExecutor.completeNow(count);
+        }
+        return MithraAsyncQueryExecutor.getInstance().submit(this.getOperation().getResultObjectPortal(), count);
+    }
+
     public void insertAll()
     {
         this.generateAndSetPrimaryKeys();
@@ -22,6 +22,7 @@ import com.gs.fw.common.mithra.MithraTransactionalList;
 import com.gs.fw.common.mithra.cache.Index;
 import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
 import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
 import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
 import com.gs.fw.common.mithra.notification.listener.MithraApplicationNotificationListener;
 import com.gs.fw.common.mithra.querycache.CachedQuery;
@@ -54,6 +55,11 @@ public interface MithraDelegatedList<E> extends Serializable
 
     public int count(DelegatingList<E> delegatingList);
 
+    /**
+     * @return true if the list is resolved, or was just resolved from the cache without going to the database
+     */
+    public boolean resolveInMemory(DelegatingList<E> delegatingList);
+
     public MithraDelegatedList<E> setMaxObjectsToRetrieve(DelegatingList<E> delegatingList, int count);
 
     public boolean reachedMaxObjectsToRetrieve(DelegatingList<E> delegatingList);
@@ -84,6 +90,12 @@ public interface MithraDelegatedList<E> extends Serializable
 
     public void forEachWithCursor(DelegatingList<E> delegatingList, DoWhileProcedure closure, Filter filter);
 
+    /**
+     * Opens a cursor over the list. The caller must close the returned cursor.
+     * @see MithraList#iteratorWithCursor(Filter, boolean)
+     */
+    public Cursor iteratorWithCursor(DelegatingList<E> delegatingList, Filter postLoadFilter, boolean bypassObjectCache);
+
     /**
      * Clears the list of resolved references.</p>
      * This method will clear its internal list of results making all the referenced objects
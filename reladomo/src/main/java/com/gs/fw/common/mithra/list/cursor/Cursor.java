@@ -20,7 +20,11 @@ import java.util.Iterator;
 
 
 
-public interface Cursor extends Iterator
+/**
+ * An iterator over the results of a query. Database backed cursors hold a connection and an open result set
+ * until they are closed, so they must always be closed, preferably with try-with-resources.
+ */
+public interface Cursor extends Iterator, AutoCloseable
 {
     public void close();
 }
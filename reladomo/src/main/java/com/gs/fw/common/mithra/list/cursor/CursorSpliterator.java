@@ -0,0 +1,63 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.list.cursor;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Adapts a {@link Cursor} to a sequential, ordered {@link Spliterator}. The cursor is closed as soon as it is
+ * exhausted, or when {@link #close()} is called, whichever comes first.
+ */
+public class CursorSpliterator<E> extends Spliterators.AbstractSpliterator<E>
+{
+    private final Cursor cursor;
+    private boolean closed;
+
+    public CursorSpliterator(Cursor cursor)
+    {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action)
+    {
+        if (this.closed)
+        {
+            return false;
+        }
+        if (this.cursor.hasNext())
+        {
+            action.accept((E) this.cursor.next());
+            return true;
+        }
+        this.close();
+        return false;
+    }
+
+    public void close()
+    {
+        if (!this.closed)
+        {
+            this.closed = true;
+            this.cursor.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.list.cursor;
+
+import com.gs.fw.common.mithra.util.Filter;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A cursor over a list that is already in memory, for example the result of an operation resolved in a full cache.
+ */
+public class ListCursor implements Cursor
+{
+    private final List list;
+    private final Filter postLoadFilter;
+    private int position;
+    private Object next;
+
+    public ListCursor(List list, Filter postLoadFilter)
+    {
+        this.list = list;
+        this.postLoadFilter = postLoadFilter;
+    }
+
+    public boolean hasNext()
+    {
+        while (this.next == null && this.position < this.list.size())
+        {
+            Object each = this.list.get(this.position++);
+            if (this.postLoadFilter == null || this.postLoadFilter.matches(each))
+            {
+                this.next = each;
+            }
+        }
+        return this.next != null;
+    }
+
+    public Object next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException("Can't find a 'next' element");
+        }
+        Object result = this.next;
+        this.next = null;
+        return result;
+    }
+
+    public void remove()
+    {
+        throw new UnsupportedOperationException("remove is not supported on a cursor");
+    }
+
+    public void close()
+    {
+        // nothing to release
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.notification;
+
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.remote.MithraSerialUtil;
+import com.gs.fw.common.mithra.util.lz4.LZ4BlockInputStream;
+import com.gs.fw.common.mithra.util.lz4.LZ4BlockOutputStream;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact encoding of a notification message. Events are grouped by class; each class name is written once,
+ * followed by that class's events in their own object stream, so repeated attributes are written as back references.
+ * Data objects are written with their generated primary key serialization. The body is optionally LZ4 compressed.
+ * <p/>
+ * Messages start with a magic number that can't start a java serialized message, so receivers accept both encodings.
+ * Events of classes that can't be loaded by the receiver are skipped.
+ */
+public class BinaryNotificationMessageCodec
+{
+    private static final Logger logger = LoggerFactory.getLogger(BinaryNotificationMessageCodec.class);
+
+    private static final byte[] MAGIC = { 'M', 'N', 'B', 1 };
+    private static final int HEADER_SIZE = MAGIC.length + 1;
+    private static final byte FLAG_LZ4 = 1;
+
+    private final LZ4BlockOutputStream lz4BlockOutputStream = new LZ4BlockOutputStream(null, false);
+    private final LZ4BlockInputStream lz4BlockInputStream = new LZ4BlockInputStream(null);
+
+    public static boolean isBinaryMessage(byte[] message)
+    {
+        if (message.length < HEADER_SIZE)
+        {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++)
+        {
+            if (message[i] != MAGIC[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized byte[] encode(ExternalizableMithraNotificationMessage message, boolean compress) throws IOException
+    {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(200);
+        bos.write(MAGIC);
+        bos.write(compress ? FLAG_LZ4 : 0);
+        OutputStream body = bos;
+        if (compress)
+        {
+            lz4BlockOutputStream.reset(bos);
+            body = lz4BlockOutputStream;
+        }
+        DataOutputStream out = new DataOutputStream(body);
+        out.writeLong(message.getMithraVmId());
+        out.writeLong(message.getRequestorVmId());
+
+        Map<String, List<MithraNotificationEvent>> eventsByClass = groupByClass(message.getNotificationEvents());
+        out.writeInt(eventsByClass.size());
+        ByteArrayOutputStream classBytes = new ByteArrayOutputStream(1024);
+        for (Map.Entry<String, List<MithraNotificationEvent>> entry : eventsByClass.entrySet())
+        {
+            classBytes.reset();
+            ObjectOutputStream oos = new ObjectOutputStream(classBytes);
+            writeEvents(oos, entry.getValue());
+            oos.flush();
+            out.writeUTF(entry.getKey());
+            out.writeInt(classBytes.size());
+            classBytes.writeTo(out);
+        }
+        out.flush();
+        if (compress)
+        {
+            lz4BlockOutputStream.finish();
+        }
+        return bos.toByteArray();
+    }
+
+    private Map<String, List<MithraNotificationEvent>> groupByClass(List<MithraNotificationEvent> events)
+    {
+        Map<String, List<MithraNotificationEvent>> result = new LinkedHashMap<String, List<MithraNotificationEvent>>();
+        for (int i = 0; i < events.size(); i++)
+        {
+            MithraNotificationEvent event = events.get(i);
+            List<MithraNotificationEvent> list = result.get(event.getClassname());
+            if (list == null)
+            {
+                list = FastList.newList();
+                result.put(event.getClassname(), list);
+            }
+            list.add(event);
+        }
+        return result;
+    }
+
+    private void writeEvents(ObjectOutputStream out, List<MithraNotificationEvent> events) throws IOException
+    {
+        out.writeInt(events.size());
+        for (int i = 0; i < events.size(); i++)
+        {
+            MithraNotificationEvent event = events.get(i);
+            out.writeByte(event.getDatabaseOperation());
+            out.writeObject(event.getSourceAttribute());
+            if (event.getDatabaseOperation() == MithraNotificationEvent.MASS_DELETE)
+            {
+                out.writeObject(event.getOperationForMassDelete());
+            }
+            Attribute[] updatedAttributes = event.getUpdatedAttributes();
+            out.writeInt(updatedAttributes == null ? -1 : updatedAttributes.length);
+            if (updatedAttributes != null)
+            {
+                for (Attribute attribute : updatedAttributes)
+                {
+                    out.writeObject(attribute);
+                }
+            }
+            MithraDataObject[] dataObjects = event.getDataObjects();
+            out.writeInt(dataObjects == null ? -1 : dataObjects.length);
+            if (dataObjects != null)
+            {
+                for (MithraDataObject data : dataObjects)
+                {
+                    data.zSerializePrimaryKey(out);
+                }
+            }
+        }
+    }
+
+    public synchronized ExternalizableMithraNotificationMessage decode(byte[] message) throws IOException
+    {
+        if (!isBinaryMessage(message))
+        {
+            throw new IOException("Not a binary notification message");
+        }
+        InputStream body = new ByteArrayInputStream(message, HEADER_SIZE, message.length - HEADER_SIZE);
+        if ((message[MAGIC.length] & FLAG_LZ4) != 0)
+        {
+            lz4BlockInputStream.reset(body);
+            body = lz4BlockInputStream;
+        }
+        DataInputStream in = new DataInputStream(body);
+        long mithraVmId = in.readLong();
+        long requestorVmId = in.readLong();
+        int classCount = in.readInt();
+        List<MithraNotificationEvent> events = FastList.newList();
+        for (int i = 0; i < classCount; i++)
+        {
+            String classname = in.readUTF();
+            byte[] classBytes = new byte[in.readInt()];
+            in.readFully(classBytes);
+            try
+            {
+                readEvents(classname, new ObjectInputStream(new ByteArrayInputStream(classBytes)), events);
+            }
+            catch (ClassNotFoundException e)
+            {
+                logger.debug("Could not read notifications for "+classname, e); // we ignore these
+            }
+        }
+        ExternalizableMithraNotificationMessage result = new ExternalizableMithraNotificationMessage(events);
+        result.setMithraVmId(mithraVmId);
+        result.setRequestorVmId(requestorVmId);
+        return result;
+    }
+
+    private void readEvents(String classname, ObjectInputStream in, List<MithraNotificationEvent> events) throws IOException, ClassNotFoundException
+    {
+        Class dataClass = MithraSerialUtil.getDataClassForFinder(classname);
+        int eventCount = in.readInt();
+        List<MithraNotificationEvent> classEvents = FastList.newList(eventCount);
+        for (int i = 0; i < eventCount; i++)
+        {
+            byte databaseOperation = in.readByte();
+            Object sourceAttribute = in.readObject();
+            Operation operationForMassDelete = null;
+            if (databaseOperation == MithraNotificationEvent.MASS_DELETE)
+            {
+                operationForMassDelete = (Operation) in.readObject();
+            }
+            Attribute[] updatedAttributes = null;
+            int attributeCount = in.readInt();
+            if (attributeCount >= 0)
+            {
+                updatedAttributes = new Attribute[attributeCount];
+                for (int j = 0; j < attributeCount; j++)
+                {
+                    updatedAttributes[j] = (Attribute) in.readObject();
+                }
+            }
+            MithraDataObject[] dataObjects = null;
+            int dataObjectCount = in.readInt();
+            if (dataObjectCount >= 0)
+            {
+                dataObjects = new MithraDataObject[dataObjectCount];
+                for (int j = 0; j < dataObjectCount; j++)
+                {
+                    MithraDataObject dataObject = MithraSerialUtil.instantiateData(dataClass);
+                    dataObject.zDeserializePrimaryKey(in);
+                    dataObjects[j] = dataObject;
+                }
+            }
+            classEvents.add(new MithraNotificationEvent(classname, databaseOperation, dataObjects, updatedAttributes, operationForMassDelete, sourceAttribute));
+        }
+        events.addAll(classEvents);
+    }
+}
@@ -83,8 +83,15 @@ public class MithraNotificationEventManagerImpl implements MithraNotificationEve
     private ExecutorService queuedExecutor;
     private ScheduledExecutorService clockDaemon;
     private static final int PERIOD = 100;
+    private static final long BATCH_WINDOW_MILLIS = Long.getLong("mithra.notification.batchWindowMillis", 0);
+    private static final int BATCH_MAX_OBJECTS = Integer.getInteger("mithra.notification.batchMaxObjects", 10000);
+    private static final boolean BINARY_ENCODING = Boolean.parseBoolean(System.getProperty("mithra.notification.binaryEncoding", "false"));
+    private static final boolean BINARY_COMPRESSION = Boolean.parseBoolean(System.getProperty("mithra.notification.binaryCompression", "true"));
     private LZ4BlockOutputStream lz4BlockOutputStream = new LZ4BlockOutputStream(null, false);
     private LZ4BlockInputStream lz4BlockInputStream = new LZ4BlockInputStream(null);
+    private final BinaryNotificationMessageCodec binaryCodec = new BinaryNotificationMessageCodec();
+    private final NotificationEventCoalescer coalescer = BATCH_WINDOW_MILLIS > 0 ? new NotificationEventCoalescer() : null;
+    private final Object coalescedSendLock = new Object();
     private volatile boolean shutdown;
     private Thread shutdownHook = null;
 
@@ -229,6 +236,14 @@ public class MithraNotificationEventManagerImpl implements MithraNotificationEve
 
     public void broadcastNotificationMessage(Map notificationEvents, long requestorVmId)
     {
+        if (coalescer != null)
+        {
+            if (coalescer.add(notificationEvents, requestorVmId) >= BATCH_MAX_OBJECTS)
+            {
+                addTaskToQueue(this.getSendCoalescedNotificationMessagesRunnable());
+            }
+            return;
+        }
         Runnable task = this.getSendMithraNotificationMessageRunnable(notificationEvents, requestorVmId);
         if (logger.isDebugEnabled())
         {
@@ -279,7 +294,14 @@ public class MithraNotificationEventManagerImpl implements MithraNotificationEve
         ExternalizableMithraNotificationMessage notificationMessage;
         try
         {
-            notificationMessage = (ExternalizableMithraNotificationMessage) convertBytesToObject(message);
+            if (BinaryNotificationMessageCodec.isBinaryMessage(message))
+            {
+                notificationMessage = binaryCodec.decode(message);
+            }
+            else
+            {
+                notificationMessage = (ExternalizableMithraNotificationMessage) convertBytesToObject(message);
+            }
 
             long senderMithraVmId = notificationMessage.getMithraVmId();
             long senderRequestorVmId = notificationMessage.getRequestorVmId();
@@ -521,26 +543,56 @@ public class MithraNotificationEventManagerImpl implements MithraNotificationEve
                 {
                     String databaseIdentifier = (String) it.next();
                     List events = (ArrayList) notificationEvents.get(databaseIdentifier);
-                    ExternalizableMithraNotificationMessage notificationMessage = new ExternalizableMithraNotificationMessage(events);
-                    notificationMessage.setMithraVmId(MithraProcessInfo.getVmId());
-                    notificationMessage.setRequestorVmId(requestorVmId);
-                    if (logger.isDebugEnabled())
-                    {
-                        logger.debug("***************** Mithra: " + MithraProcessInfo.getVmId() + " sending message with topic: " + databaseIdentifier);
-                    }
-                    try
-                    {
-                        getOrCreateAdapter(databaseIdentifier).broadcastMessage(convertObjectToBytes(notificationMessage));
-                    }
-                    catch (IOException e)
-                    {
-                        throw new RuntimeException("Unable to serialize Mithra notification message");
-                    }
+                    sendNotificationMessage(databaseIdentifier, events, requestorVmId);
                 }
             }
         };
     }
 
+    private Runnable getSendCoalescedNotificationMessagesRunnable()
+    {
+        return new Runnable()
+        {
+            public void run()
+            {
+                sendCoalescedNotificationMessages();
+            }
+        };
+    }
+
+    private void sendCoalescedNotificationMessages()
+    {
+        synchronized (coalescedSendLock)
+        {
+            List<NotificationEventCoalescer.Batch> batches = coalescer.drain();
+            for (int i = 0; i < batches.size(); i++)
+            {
+                NotificationEventCoalescer.Batch batch = batches.get(i);
+                sendNotificationMessage(batch.getDatabaseIdentifier(), batch.getEvents(), batch.getRequestorVmId());
+            }
+        }
+    }
+
+    private void sendNotificationMessage(String databaseIdentifier, List<MithraNotificationEvent> events, long requestorVmId)
+    {
+        ExternalizableMithraNotificationMessage notificationMessage = new ExternalizableMithraNotificationMessage(events);
+        notificationMessage.setMithraVmId(MithraProcessInfo.getVmId());
+        notificationMessage.setRequestorVmId(requestorVmId);
+        if (logger.isDebugEnabled())
+        {
+            logger.debug("***************** Mithra: " + MithraProcessInfo.getVmId() + " sending message with topic: " + databaseIdentifier);
+        }
+        try
+        {
+            byte[] message = BINARY_ENCODING ? binaryCodec.encode(notificationMessage, BINARY_COMPRESSION) : convertObjectToBytes(notificationMessage);
+            getOrCreateAdapter(databaseIdentifier).broadcastMessage(message);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Unable to serialize Mithra notification message");
+        }
+    }
+
     public synchronized Map<String, List<MithraNotificationEvent>> getNotificationsToSend()
     {
         Map<String, List<MithraNotificationEvent>> result = mithraNoTxNotificationEvents;
@@ -562,28 +614,19 @@ public class MithraNotificationEventManagerImpl implements MithraNotificationEve
             public void run()
             {
                 Map<String, List<MithraNotificationEvent>> thingsToSend = getNotificationsToSend();
-                if (!thingsToSend.isEmpty())
+                if (thingsToSend.isEmpty())
                 {
-                    for (Iterator<String> it = thingsToSend.keySet().iterator(); it.hasNext(); )
-                    {
-                        String databaseIdentifier = it.next();
-                        List<MithraNotificationEvent> events = thingsToSend.get(databaseIdentifier);
-                        ExternalizableMithraNotificationMessage notificationMessage = new ExternalizableMithraNotificationMessage(events);
-                        notificationMessage.setMithraVmId(MithraProcessInfo.getVmId());
-                        notificationMessage.setRequestorVmId(MithraProcessInfo.getVmId());
-                        try
-                        {
-                            if (logger.isDebugEnabled())
-                            {
-                                logger.debug("***************** Mithra: " + MithraProcessInfo.getVmId() + " sending message with topic: " + databaseIdentifier);
-                            }
-                            getOrCreateAdapter(databaseIdentifier).broadcastMessage(convertObjectToBytes(notificationMessage));
-                        }
-                        catch (IOException e)
-                        {
-                            throw new RuntimeException("Unable to serialize Mithra notification message");
-                        }
-                    }
+                    return;
+                }
+                if (coalescer != null)
+                {
+                    coalescer.add(thingsToSend, MithraProcessInfo.getVmId());
+                    return;
+                }
+                for (Iterator<String> it = thingsToSend.keySet().iterator(); it.hasNext(); )
+                {
+                    String databaseIdentifier = it.next();
+                    sendNotificationMessage(databaseIdentifier, thingsToSend.get(databaseIdentifier), MithraProcessInfo.getVmId());
                 }
             }
         };
@@ -690,6 +733,10 @@ public class MithraNotificationEventManagerImpl implements MithraNotificationEve
             }
         });
         clockDaemon.scheduleAtFixedRate(this.getSendNoTxNotificationMessageBatchRunnable(), 0, PERIOD, TimeUnit.MILLISECONDS);
+        if (coalescer != null)
+        {
+            clockDaemon.scheduleAtFixedRate(this.getSendCoalescedNotificationMessagesRunnable(), BATCH_WINDOW_MILLIS, BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        }
     }
 
     public void shutdown()
@@ -745,6 +792,10 @@ public class MithraNotificationEventManagerImpl implements MithraNotificationEve
                 r.run();
             }
         }
+        if (coalescer != null)
+        {
+            sendCoalescedNotificationMessages();
+        }
     }
 
     /**
@@ -0,0 +1,254 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.notification;
+
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.cache.FullUniqueIndex;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.reladomo.metadata.ReladomoClassMetaData;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the notification events of several transactions so they can be published as one message per
+ * database identifier and requestor.
+ * <p/>
+ * An event is merged into the latest pending event of the same class when both have the same database operation
+ * and source attribute. Merged updates report the union of the updated attributes. Primary keys are de-duplicated
+ * for non-dated classes. Mass deletes are never merged, and events of one class are never reordered.
+ */
+public class NotificationEventCoalescer
+{
+    private static final Logger logger = LoggerFactory.getLogger(NotificationEventCoalescer.class);
+
+    private static final Attribute[] NO_DEDUPE = new Attribute[0];
+
+    private Map<BatchKey, Batch> batches = UnifiedMap.newMap();
+    private final Map<String, Attribute[]> primaryKeysByClass = UnifiedMap.newMap();
+    private int pendingObjects;
+
+    /**
+     * @return the number of data objects pending after adding the events
+     */
+    public synchronized int add(Map<String, List<MithraNotificationEvent>> eventsByDatabaseIdentifier, long requestorVmId)
+    {
+        for (Map.Entry<String, List<MithraNotificationEvent>> entry : eventsByDatabaseIdentifier.entrySet())
+        {
+            BatchKey key = new BatchKey(entry.getKey(), requestorVmId);
+            Batch batch = batches.get(key);
+            if (batch == null)
+            {
+                batch = new Batch(entry.getKey(), requestorVmId);
+                batches.put(key, batch);
+            }
+            List<MithraNotificationEvent> events = entry.getValue();
+            for (int i = 0; i < events.size(); i++)
+            {
+                pendingObjects += batch.add(events.get(i));
+            }
+        }
+        return pendingObjects;
+    }
+
+    public synchronized List<Batch> drain()
+    {
+        if (batches.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+        List<Batch> result = FastList.newList(batches.values());
+        batches = UnifiedMap.newMap();
+        pendingObjects = 0;
+        return result;
+    }
+
+    private Attribute[] getPrimaryKeyAttributesForDedupe(String finderClassName)
+    {
+        Attribute[] result = primaryKeysByClass.get(finderClassName);
+        if (result == null)
+        {
+            result = NO_DEDUPE;
+            try
+            {
+                RelatedFinder finder = ReladomoClassMetaData.fromFinderClassName(finderClassName).getFinderInstance();
+                if (finder.getAsOfAttributes() == null)
+                {
+                    result = finder.getPrimaryKeyAttributes();
+                }
+            }
+            catch (RuntimeException e)
+            {
+                logger.debug("Could not get primary key for "+finderClassName+", notifications will not be de-duplicated", e);
+            }
+            primaryKeysByClass.put(finderClassName, result);
+        }
+        return result == NO_DEDUPE ? null : result;
+    }
+
+    public class Batch
+    {
+        private final String databaseIdentifier;
+        private final long requestorVmId;
+        private final List<PendingEvent> events = FastList.newList();
+        private final Map<String, PendingEvent> lastEventByClass = UnifiedMap.newMap();
+
+        private Batch(String databaseIdentifier, long requestorVmId)
+        {
+            this.databaseIdentifier = databaseIdentifier;
+            this.requestorVmId = requestorVmId;
+        }
+
+        public String getDatabaseIdentifier()
+        {
+            return databaseIdentifier;
+        }
+
+        public long getRequestorVmId()
+        {
+            return requestorVmId;
+        }
+
+        public List<MithraNotificationEvent> getEvents()
+        {
+            List<MithraNotificationEvent> result = FastList.newList(events.size());
+            for (int i = 0; i < events.size(); i++)
+            {
+                result.add(events.get(i).toEvent());
+            }
+            return result;
+        }
+
+        private int add(MithraNotificationEvent event)
+        {
+            PendingEvent last = lastEventByClass.get(event.getClassname());
+            if (last == null || !last.canMerge(event))
+            {
+                Attribute[] primaryKey = event.getDataObjects() == null ? null : getPrimaryKeyAttributesForDedupe(event.getClassname());
+                last = new PendingEvent(event, primaryKey);
+                events.add(last);
+                lastEventByClass.put(event.getClassname(), last);
+            }
+            return last.merge(event);
+        }
+    }
+
+    private static class PendingEvent
+    {
+        private final MithraNotificationEvent first;
+        private final FastList<MithraDataObject> dataObjects;
+        private final FastList<Attribute> updatedAttributes;
+        private final FullUniqueIndex primaryKeyIndex;
+        private int mergedEvents;
+
+        private PendingEvent(MithraNotificationEvent first, Attribute[] primaryKey)
+        {
+            this.first = first;
+            this.dataObjects = first.getDataObjects() == null ? null : FastList.<MithraDataObject>newList(first.getDataObjects().length);
+            this.updatedAttributes = first.getUpdatedAttributes() == null ? null : FastList.<Attribute>newList(first.getUpdatedAttributes().length);
+            this.primaryKeyIndex = primaryKey == null ? null : new FullUniqueIndex("", primaryKey);
+        }
+
+        private boolean canMerge(MithraNotificationEvent event)
+        {
+            if (event.getDatabaseOperation() != first.getDatabaseOperation() || first.getDatabaseOperation() == MithraNotificationEvent.MASS_DELETE
+                    || this.dataObjects == null || event.getDataObjects() == null
+                    || (this.updatedAttributes == null) != (event.getUpdatedAttributes() == null))
+            {
+                return false;
+            }
+            Object source = first.getSourceAttribute();
+            return source == null ? event.getSourceAttribute() == null : source.equals(event.getSourceAttribute());
+        }
+
+        /**
+         * @return the number of data objects added
+         */
+        private int merge(MithraNotificationEvent event)
+        {
+            mergedEvents++;
+            if (updatedAttributes != null)
+            {
+                for (Attribute attribute : event.getUpdatedAttributes())
+                {
+                    if (!updatedAttributes.contains(attribute))
+                    {
+                        updatedAttributes.add(attribute);
+                    }
+                }
+            }
+            if (dataObjects == null)
+            {
+                return 0;
+            }
+            int added = 0;
+            for (MithraDataObject data : event.getDataObjects())
+            {
+                if (primaryKeyIndex == null || primaryKeyIndex.put(data) == null)
+                {
+                    dataObjects.add(data);
+                    added++;
+                }
+            }
+            return added;
+        }
+
+        private MithraNotificationEvent toEvent()
+        {
+            if (mergedEvents == 1)
+            {
+                return first;
+            }
+            Attribute[] attributes = updatedAttributes == null ? null : updatedAttributes.toArray(new Attribute[updatedAttributes.size()]);
+            return new MithraNotificationEvent(first.getClassname(), first.getDatabaseOperation(),
+                    dataObjects.toArray(new MithraDataObject[dataObjects.size()]), attributes, null, first.getSourceAttribute());
+        }
+    }
+
+    private static class BatchKey
+    {
+        private final String databaseIdentifier;
+        private final long requestorVmId;
+
+        private BatchKey(String databaseIdentifier, long requestorVmId)
+        {
+            this.databaseIdentifier = databaseIdentifier;
+            this.requestorVmId = requestorVmId;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) return true;
+            if (!(o instanceof BatchKey)) return false;
+            BatchKey other = (BatchKey) o;
+            return requestorVmId == other.requestorVmId && databaseIdentifier.equals(other.databaseIdentifier);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return databaseIdentifier.hashCode() * 31 + (int) (requestorVmId ^ (requestorVmId >>> 32));
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.SocketException;
+import java.nio.ByteBuffer;
 
 
 public class Message
@@ -49,6 +50,8 @@ public class Message
     public static final int MESSAGE_HEADER_SIZE = 23;
     public static final int TCP_PACKET_SIZE = 1500 /* Ethernet MTU */ - 24 /* tcp header size */;
     public static final int PAYLOAD_MAX_SIZE = TCP_PACKET_SIZE - MESSAGE_HEADER_SIZE;
+    // subscribe messages carry all subjects in one packet, so this is much larger than PAYLOAD_MAX_SIZE
+    private static final int MAX_ACCEPTED_PAYLOAD_SIZE = Integer.getInteger("mithra.notification.maxPayloadSize", 16 << 20);
 
     private byte type;
     private int senderId;
@@ -156,6 +159,46 @@ public class Message
         return result;
     }
 
+    /**
+     * Reads the next message from the buffer, which must be ready for reading (flipped).
+     * @return the message, or null if the buffer doesn't hold a complete message yet. The buffer position is
+     * unchanged in that case.
+     */
+    public static Message read(ByteBuffer in) throws IOException
+    {
+        if (in.remaining() < MESSAGE_HEADER_SIZE)
+        {
+            return null;
+        }
+        int start = in.position();
+        int magic = in.getInt(start);
+        if (magic != MAGIC)
+        {
+            throw new IOException("Unexpected start of message. Expected "+MAGIC+" but got "+magic);
+        }
+        int payloadSize = checkPayloadSize(in.getInt(start + MESSAGE_HEADER_SIZE - 4));
+        if (in.remaining() < MESSAGE_HEADER_SIZE + payloadSize)
+        {
+            return null;
+        }
+        in.position(start + 4);
+        byte protocol = in.get();
+        if (protocol != PROTOCOL_VERSION)
+        {
+            throw new IOException("Unexpected protocol version. Expected "+PROTOCOL_VERSION+" but got "+protocol);
+        }
+        Message result = new Message();
+        result.type = in.get();
+        result.senderId = in.getInt();
+        result.messageId = in.getInt();
+        result.packetNumber = in.getInt();
+        result.packetStatus = in.get();
+        result.payloadSize = in.getInt();
+        result.payload = new byte[payloadSize];
+        in.get(result.payload);
+        return result;
+    }
+
     private void readMessage(InputStream in)
             throws IOException
     {
@@ -166,10 +209,19 @@ public class Message
         this.messageId = readInt(in);
         this.packetNumber = readInt(in);
         this.packetStatus = readByte(in);
-        this.payloadSize = readInt(in);
+        this.payloadSize = checkPayloadSize(readInt(in));
         this.readPayload(in);
     }
 
+    private static int checkPayloadSize(int payloadSize) throws IOException
+    {
+        if (payloadSize < 0 || payloadSize > MAX_ACCEPTED_PAYLOAD_SIZE)
+        {
+            throw new IOException("Unexpected payload size "+payloadSize+". It must be between 0 and "+MAX_ACCEPTED_PAYLOAD_SIZE);
+        }
+        return payloadSize;
+    }
+
     public void writeMessage(OutputStream out) throws IOException
     {
         writeInt(out, MAGIC);
@@ -183,6 +235,25 @@ public class Message
         writePayload(out);
     }
 
+    /**
+     * Writes the message to the buffer, which must have at least {@link #getTotalMessageSize()} bytes remaining.
+     */
+    public void writeMessage(ByteBuffer out)
+    {
+        out.putInt(MAGIC);
+        out.put(PROTOCOL_VERSION);
+        out.put(this.type);
+        out.putInt(senderId);
+        out.putInt(messageId);
+        out.putInt(packetNumber);
+        out.put(packetStatus);
+        out.putInt(payloadSize);
+        if (payload != null && payloadSize > 0)
+        {
+            out.put(payload, 0, payloadSize);
+        }
+    }
+
     private void writePayload(OutputStream out) throws IOException
     {
         if (payload != null && payloadSize > 0)
@@ -0,0 +1,198 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.notification.server;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reads from and writes to the channels of a share of the clients of a {@link NioNotificationServer}.
+ * Handlers are registered and have their writes scheduled from other threads; all channel I/O happens on this thread.
+ */
+public class NioEventLoop extends Thread
+{
+    private static final Logger logger = LoggerFactory.getLogger(NioEventLoop.class);
+
+    private static final long HOUSEKEEPING_PERIOD = 1000;
+
+    private final NioNotificationServer server;
+    private final Selector selector;
+    private final ConcurrentLinkedQueue<NioServerSocketHandler> pendingRegistrations = new ConcurrentLinkedQueue<NioServerSocketHandler>();
+    private final ConcurrentLinkedQueue<NioServerSocketHandler> pendingWrites = new ConcurrentLinkedQueue<NioServerSocketHandler>();
+    private final List<NioServerSocketHandler> pausedReaders = new ArrayList<NioServerSocketHandler>();
+    private volatile boolean shutdown;
+    private long lastHouseKeepingTime = System.currentTimeMillis();
+
+    public NioEventLoop(NioNotificationServer server, int id) throws IOException
+    {
+        this.server = server;
+        this.selector = Selector.open();
+        this.setDaemon(true);
+        this.setName("Notification Server Event Loop - "+id);
+    }
+
+    public void register(NioServerSocketHandler handler)
+    {
+        pendingRegistrations.add(handler);
+        selector.wakeup();
+    }
+
+    public void scheduleWrite(NioServerSocketHandler handler)
+    {
+        pendingWrites.add(handler);
+        selector.wakeup();
+    }
+
+    public void wakeup()
+    {
+        selector.wakeup();
+    }
+
+    public void shutdown()
+    {
+        this.shutdown = true;
+        selector.wakeup();
+    }
+
+    public void run()
+    {
+        while(!shutdown)
+        {
+            try
+            {
+                selector.select(HOUSEKEEPING_PERIOD);
+                registerPending();
+                resumeReadingIfUncongested();
+                processSelectedKeys();
+                writePending();
+                houseKeep();
+            }
+            catch (Throwable t)
+            {
+                logger.error("unexpected exception in notification event loop", t);
+            }
+        }
+        try
+        {
+            selector.close();
+        }
+        catch (IOException e)
+        {
+            logger.warn("could not close selector", e);
+        }
+    }
+
+    private void registerPending()
+    {
+        NioServerSocketHandler handler;
+        while((handler = pendingRegistrations.poll()) != null)
+        {
+            try
+            {
+                handler.register(selector);
+            }
+            catch (IOException e)
+            {
+                handler.abort("could not register client", e);
+            }
+        }
+    }
+
+    private void resumeReadingIfUncongested()
+    {
+        if (!pausedReaders.isEmpty() && !server.isCongested())
+        {
+            for(int i=0;i<pausedReaders.size();i++)
+            {
+                pausedReaders.get(i).resumeReading();
+            }
+            pausedReaders.clear();
+        }
+    }
+
+    private void processSelectedKeys()
+    {
+        Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+        while(it.hasNext())
+        {
+            SelectionKey key = it.next();
+            it.remove();
+            NioServerSocketHandler handler = (NioServerSocketHandler) key.attachment();
+            try
+            {
+                if (key.isValid() && key.isWritable())
+                {
+                    handler.write();
+                }
+                if (key.isValid() && key.isReadable())
+                {
+                    if (server.isCongested() && handler.isEstablished())
+                    {
+                        handler.pauseReading();
+                        pausedReaders.add(handler);
+                    }
+                    else
+                    {
+                        handler.read();
+                    }
+                }
+            }
+            catch (Exception e)
+            {
+                handler.abort("unexpected exception while talking to client", e);
+            }
+        }
+    }
+
+    private void writePending()
+    {
+        NioServerSocketHandler handler;
+        while((handler = pendingWrites.poll()) != null)
+        {
+            try
+            {
+                handler.write();
+            }
+            catch (Exception e)
+            {
+                handler.abort("unexpected exception while sending", e);
+            }
+        }
+    }
+
+    private void houseKeep()
+    {
+        long now = System.currentTimeMillis();
+        if (now - lastHouseKeepingTime >= HOUSEKEEPING_PERIOD)
+        {
+            lastHouseKeepingTime = now;
+            List<SelectionKey> keys = new ArrayList<SelectionKey>(selector.keys());
+            for(int i=0;i<keys.size();i++)
+            {
+                ((NioServerSocketHandler) keys.get(i).attachment()).houseKeep(now);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.notification.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A notification server that serves all clients from a small, fixed set of {@link NioEventLoop}s instead of
+ * a reader and a writer thread per client. It speaks the same protocol as {@link NotificationServer}, so
+ * existing {@link NotificationClient}s connect to it unchanged.
+ * <p/>
+ * Each client's outbound queue is bounded by maxQueuedMessages. While a client's queue is full, the server stops
+ * reading from all clients, which pushes back on the publishers. A client that stays full for longer than
+ * {@link ServerSocketHandler#SERVER_PING_PERIOD} is disconnected; it gets its pending messages back when it reconnects.
+ */
+public class NioNotificationServer extends NotificationServer
+{
+    public static final String EVENT_LOOPS = "mithra.notification.eventLoops";
+    public static final String MAX_QUEUED_MESSAGES = "mithra.notification.maxQueuedMessages";
+
+    private static final int DEFAULT_MAX_QUEUED_MESSAGES = 10000;
+
+    private final int eventLoopCount;
+    private final int maxQueuedMessages;
+    private volatile NioEventLoop[] eventLoops;
+    private final AtomicInteger nextEventLoop = new AtomicInteger();
+    private final AtomicInteger congestedClients = new AtomicInteger();
+
+    public NioNotificationServer(int port)
+    {
+        this(port, null);
+    }
+
+    public NioNotificationServer(int port, ExceptionHandler exceptionHandler)
+    {
+        this(port, exceptionHandler, Integer.getInteger(EVENT_LOOPS, Math.min(4, Runtime.getRuntime().availableProcessors())),
+                Integer.getInteger(MAX_QUEUED_MESSAGES, DEFAULT_MAX_QUEUED_MESSAGES));
+    }
+
+    public NioNotificationServer(int port, ExceptionHandler exceptionHandler, int eventLoopCount, int maxQueuedMessages)
+    {
+        super(port, exceptionHandler);
+        this.eventLoopCount = Math.max(1, eventLoopCount);
+        this.maxQueuedMessages = Math.max(2, maxQueuedMessages);
+    }
+
+    @Override
+    protected ServerSocket createServerSocket(int port) throws IOException
+    {
+        InetSocketAddress address = new InetSocketAddress(port);
+        startEventLoops();
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        try
+        {
+            channel.socket().bind(address);
+        }
+        catch (IOException e)
+        {
+            channel.close();
+            throw e;
+        }
+        return channel.socket();
+    }
+
+    private void startEventLoops() throws IOException
+    {
+        NioEventLoop[] loops = new NioEventLoop[eventLoopCount];
+        for(int i=0;i<loops.length;i++)
+        {
+            loops[i] = new NioEventLoop(this, i);
+        }
+        for(NioEventLoop loop: loops)
+        {
+            loop.start();
+        }
+        this.eventLoops = loops;
+    }
+
+    @Override
+    protected ServerSocketHandler createServerSocketHandler(Socket incoming)
+    {
+        NioEventLoop[] loops = this.eventLoops;
+        NioEventLoop eventLoop = loops[(nextEventLoop.getAndIncrement() & 0x7FFFFFFF) % loops.length];
+        return new NioServerSocketHandler(incoming, this, eventLoop);
+    }
+
+    public int getMaxQueuedMessages()
+    {
+        return maxQueuedMessages;
+    }
+
+    public boolean isCongested()
+    {
+        return congestedClients.get() > 0;
+    }
+
+    public void congestionStarted()
+    {
+        congestedClients.incrementAndGet();
+    }
+
+    public void congestionEnded()
+    {
+        if (congestedClients.decrementAndGet() == 0)
+        {
+            NioEventLoop[] loops = this.eventLoops;
+            if (loops != null)
+            {
+                for(NioEventLoop loop: loops)
+                {
+                    loop.wakeup();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shutdown()
+    {
+        super.shutdown();
+        NioEventLoop[] loops = this.eventLoops;
+        if (loops != null)
+        {
+            for(NioEventLoop loop: loops)
+            {
+                loop.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.notification.server;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking version of {@link ServerSocketHandler}. All reads and writes happen on the handler's
+ * {@link NioEventLoop}, through direct buffers. Messages may be queued from any thread.
+ */
+public class NioServerSocketHandler extends ServerSocketHandler
+{
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final NioNotificationServer nioServer;
+    private final NioEventLoop eventLoop;
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private final AtomicBoolean congested = new AtomicBoolean();
+    private volatile boolean writing;
+    private volatile boolean stopped;
+    private volatile long congestedSince;
+
+    // only used by the event loop thread
+    private SocketChannel channel;
+    private SelectionKey key;
+    private ByteBuffer readBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private ByteBuffer writeBuffer = (ByteBuffer) ByteBuffer.allocateDirect(BUFFER_SIZE).flip();
+    private Message pendingMessage;
+    private boolean established;
+    private long lastReadTime = System.currentTimeMillis();
+    private long lastWriteTime = lastReadTime;
+
+    public NioServerSocketHandler(Socket socket, NioNotificationServer server, NioEventLoop eventLoop)
+    {
+        super(socket, server);
+        this.nioServer = server;
+        this.eventLoop = eventLoop;
+    }
+
+    @Override
+    protected void startReading() throws IOException
+    {
+        this.channel = getSocket().getChannel();
+        this.channel.configureBlocking(false);
+        eventLoop.register(this);
+    }
+
+    @Override
+    protected void startWriting()
+    {
+        this.writing = true;
+        scheduleWrite();
+    }
+
+    @Override
+    protected void stopReadingAndWriting()
+    {
+        this.stopped = true;
+        if (congested.compareAndSet(true, false))
+        {
+            nioServer.congestionEnded();
+        }
+    }
+
+    @Override
+    public synchronized void abort(String message, Throwable t)
+    {
+        if (!stopped)
+        {
+            super.abort(message, t);
+        }
+    }
+
+    @Override
+    protected void queueMessage(Message m)
+    {
+        super.queueMessage(m);
+        if (!stopped && writerQueue.size() >= nioServer.getMaxQueuedMessages() && congested.compareAndSet(false, true))
+        {
+            congestedSince = System.currentTimeMillis();
+            nioServer.congestionStarted();
+        }
+        scheduleWrite();
+    }
+
+    private void scheduleWrite()
+    {
+        if (writing && !stopped && writeScheduled.compareAndSet(false, true))
+        {
+            eventLoop.scheduleWrite(this);
+        }
+    }
+
+    public boolean isEstablished()
+    {
+        return established;
+    }
+
+    public void register(Selector selector) throws IOException
+    {
+        if (!stopped)
+        {
+            this.key = channel.register(selector, SelectionKey.OP_READ, this);
+        }
+    }
+
+    public void pauseReading()
+    {
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+    }
+
+    public void resumeReading()
+    {
+        if (key.isValid())
+        {
+            key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+            lastReadTime = System.currentTimeMillis();
+        }
+    }
+
+    public void read() throws IOException
+    {
+        int read = channel.read(readBuffer);
+        if (read < 0)
+        {
+            throw new SocketException("unexpected end of stream");
+        }
+        lastReadTime = System.currentTimeMillis();
+        readBuffer.flip();
+        try
+        {
+            Message m;
+            while(!stopped && (m = Message.read(readBuffer)) != null)
+            {
+                if (established)
+                {
+                    processEstablishedMessage(m);
+                }
+                else
+                {
+                    established = processUnestablishedMessage(m);
+                }
+            }
+        }
+        finally
+        {
+            readBuffer.compact();
+        }
+        if (!readBuffer.hasRemaining())
+        {
+            ByteBuffer larger = ByteBuffer.allocateDirect(readBuffer.capacity() << 1);
+            readBuffer.flip();
+            larger.put(readBuffer);
+            readBuffer = larger;
+        }
+    }
+
+    public void write() throws IOException
+    {
+        writeScheduled.set(false);
+        if (stopped || key == null || !key.isValid())
+        {
+            return;
+        }
+        while(writeBuffer.hasRemaining() || fillWriteBuffer())
+        {
+            channel.write(writeBuffer);
+            if (writeBuffer.hasRemaining())
+            {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                return;
+            }
+        }
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        if (congested.get() && writerQueue.size() <= nioServer.getMaxQueuedMessages() >> 1 && congested.compareAndSet(true, false))
+        {
+            nioServer.congestionEnded();
+        }
+    }
+
+    private boolean fillWriteBuffer()
+    {
+        writeBuffer.clear();
+        while(true)
+        {
+            if (pendingMessage == null)
+            {
+                pendingMessage = pollMessageToWrite();
+                if (pendingMessage == null)
+                {
+                    break;
+                }
+            }
+            int size = pendingMessage.getTotalMessageSize();
+            if (size > writeBuffer.remaining())
+            {
+                if (writeBuffer.position() > 0)
+                {
+                    break;
+                }
+                writeBuffer = ByteBuffer.allocateDirect(size);
+            }
+            debugSendMessage(pendingMessage);
+            pendingMessage.writeMessage(writeBuffer);
+            pendingMessage = null;
+        }
+        writeBuffer.flip();
+        if (writeBuffer.hasRemaining())
+        {
+            lastWriteTime = System.currentTimeMillis();
+            return true;
+        }
+        return false;
+    }
+
+    public void houseKeep(long now)
+    {
+        if (stopped)
+        {
+            return;
+        }
+        if (now - lastReadTime > CLIENT_PING_PERIOD * 2)
+        {
+            abort("no message from client", new SocketTimeoutException("nothing read in "+(now - lastReadTime)+" ms"));
+        }
+        else if (congested.get() && now - congestedSince > SERVER_PING_PERIOD)
+        {
+            abort("client is not keeping up with notifications", new IOException(writerQueue.size()+" messages queued for more than "+SERVER_PING_PERIOD+" ms"));
+        }
+        else if (writing && now - lastWriteTime > SERVER_PING_PERIOD && writerQueue.isEmpty() && !writeBuffer.hasRemaining())
+        {
+            queuePingMessage();
+        }
+    }
+}
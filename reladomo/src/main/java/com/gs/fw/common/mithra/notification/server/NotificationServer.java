@@ -58,6 +58,7 @@ public class NotificationServer extends Thread
     private AtomicInteger totalMessagesBroadCast = new AtomicInteger();
     private AtomicInteger totalMessagesAborted = new AtomicInteger();
     private static final String PORT = "port";
+    private static final String NIO = "nio";
 
     public NotificationServer(int port)
     {
@@ -80,7 +81,7 @@ public class NotificationServer extends Thread
             ServerSocket socket = null;
             synchronized (this)
             {
-                socket = new ServerSocket(port);
+                socket = createServerSocket(port);
                 if (socketTimeout != 0)
                 {
                     socket.setSoTimeout(socketTimeout);
@@ -129,6 +130,11 @@ public class NotificationServer extends Thread
         }
     }
 
+    protected ServerSocket createServerSocket(int port) throws IOException
+    {
+        return new ServerSocket(port);
+    }
+
     protected ServerSocketHandler createServerSocketHandler(Socket incoming)
     {
         return new ServerSocketHandler(incoming, this);
@@ -262,7 +268,14 @@ public class NotificationServer extends Thread
             System.err.println("Could not parse port "+portStr+" The port must be an integer.");
             System.exit(-1);
         }
-        new NotificationServer(port).start();
+        if (Boolean.getBoolean(NIO))
+        {
+            new NioNotificationServer(port).start();
+        }
+        else
+        {
+            new NotificationServer(port).start();
+        }
     }
 
     public int getNextMessageId()
@@ -77,46 +77,14 @@ public class ServerReaderThread extends Thread
 
     private void readEstablished() throws IOException
     {
-        Message m = Message.read(input);
-        socketHandler.debugReceivedMessage(m);
-        switch(m.getType())
-        {
-            case Message.TYPE_ACK:
-                socketHandler.processAck(m);
-                break;
-            case Message.TYPE_NOTIFY:
-                socketHandler.respondToNotify(m);
-                break;
-            case Message.TYPE_PING:
-                socketHandler.respondToPing(m);
-                break;
-            case Message.TYPE_SUBSCRIBE:
-                socketHandler.respondToSubscribe(m);
-                break;
-            case Message.TYPE_SHUTDOWN:
-                socketHandler.respondToShutdown(m);
-                break;
-            default:
-                socketHandler.abort("got unexpected message type "+m.getType(), new IOException("got unexpected message type "+m.getType()));
-        }
+        socketHandler.processEstablishedMessage(Message.read(input));
     }
 
     private void readNotEstablished() throws IOException
     {
-        Message m = Message.read(input);
-        socketHandler.debugReceivedMessage(m);
-        switch(m.getType())
+        if (socketHandler.processUnestablishedMessage(Message.read(input)))
         {
-            case Message.TYPE_ESTABLISH:
-                socketHandler.respondToEstablish(m);
-                this.currentMode = ESTABLISHED;
-                break;
-            case Message.TYPE_REESTABLISH:
-                socketHandler.respondToReestablish(m);
-                this.currentMode = ESTABLISHED;
-                break;
-            default:
-                socketHandler.abort("got unexpected message type "+m.getType(), new IOException("got unexpected message type "+m.getType()));
+            this.currentMode = ESTABLISHED;
         }
         this.setName("Reader Thread - "+this.socketHandler.getClientId());
     }
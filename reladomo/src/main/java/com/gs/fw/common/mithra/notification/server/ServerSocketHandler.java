@@ -67,16 +67,12 @@ public class ServerSocketHandler extends SocketHandler
         InetAddress address = socketAddress.getAddress();
         diagnosticMessage  = " Host: "+address.getHostAddress()+" ("+socketAddress.getHostName()+"): "+socketAddress.getPort();
 
-        InputStream inputStream = null;
         try
         {
             this.socket.setTcpNoDelay(true);
             this.socket.setKeepAlive(true);
             this.socket.setSoTimeout(CLIENT_PING_PERIOD * 2);
-            inputStream = getInputStreamFromSocket();
-            socketOutputStream = getOutputStreamFromSocket();
-            readerThread = new ServerReaderThread(inputStream, this);
-            readerThread.start();
+            startReading();
         }
         catch (IOException e)
         {
@@ -87,6 +83,19 @@ public class ServerSocketHandler extends SocketHandler
 
     }
 
+    protected void startReading() throws IOException
+    {
+        InputStream inputStream = getInputStreamFromSocket();
+        socketOutputStream = getOutputStreamFromSocket();
+        readerThread = new ServerReaderThread(inputStream, this);
+        readerThread.start();
+    }
+
+    protected Socket getSocket()
+    {
+        return socket;
+    }
+
     public long getStartTime()
     {
         return startTime;
@@ -117,13 +126,18 @@ public class ServerSocketHandler extends SocketHandler
     public synchronized void abort(String message, Throwable t)
     {
         this.abortTime = System.currentTimeMillis();
-        if (this.readerThread != null) readerThread.abort();
-        if (this.writerThread != null) writerThread.abort();
+        stopReadingAndWriting();
         logger.warn(message+diagnosticMessage, t);
         closeSocket();
+        server.abort(this);
+    }
+
+    protected void stopReadingAndWriting()
+    {
+        if (this.readerThread != null) readerThread.abort();
+        if (this.writerThread != null) writerThread.abort();
         this.readerThread = null;
         this.writerThread = null;
-        server.abort(this);
     }
 
     public void closeSocket()
@@ -139,7 +153,7 @@ public class ServerSocketHandler extends SocketHandler
         socket = null;
     }
 
-    private void createWriterThread()
+    protected void startWriting()
     {
         writerThread = new ServerWriterThread(socketOutputStream, this);
         writerThread.start();
@@ -176,7 +190,7 @@ public class ServerSocketHandler extends SocketHandler
         writerQueue.addFirst(response);
 
         server.markEstablished(this);
-        createWriterThread();
+        startWriting();
     }
 
     public void respondToReestablish(Message m)
@@ -205,7 +219,7 @@ public class ServerSocketHandler extends SocketHandler
         this.clientId = existingClientId;
         server.markEstablished(this);
         server.removeAborted(oldHandler);
-        createWriterThread();
+        startWriting();
     }
 
     private void respondToReestablishWithServerRecycle(Message m)
@@ -330,7 +344,7 @@ public class ServerSocketHandler extends SocketHandler
         }
         if (haveToSend)
         {
-            writerQueue.add(notifyMessage);
+            queueMessage(notifyMessage);
         }
     }
 
@@ -358,11 +372,54 @@ public class ServerSocketHandler extends SocketHandler
 
     public void respondToShutdown(Message m)
     {
-        if (this.readerThread != null) readerThread.abort();
-        if (this.writerThread != null) writerThread.abort();
+        stopReadingAndWriting();
         closeSocket();
-        this.readerThread = null;
-        this.writerThread = null;
         server.removeHandler(this);
     }
+
+    /**
+     * Handles a message received before the connection is established.
+     * @return true if the message established the connection
+     */
+    public boolean processUnestablishedMessage(Message m) throws IOException
+    {
+        debugReceivedMessage(m);
+        switch(m.getType())
+        {
+            case Message.TYPE_ESTABLISH:
+                respondToEstablish(m);
+                return true;
+            case Message.TYPE_REESTABLISH:
+                respondToReestablish(m);
+                return true;
+            default:
+                abort("got unexpected message type "+m.getType(), new IOException("got unexpected message type "+m.getType()));
+                return false;
+        }
+    }
+
+    public void processEstablishedMessage(Message m) throws IOException
+    {
+        debugReceivedMessage(m);
+        switch(m.getType())
+        {
+            case Message.TYPE_ACK:
+                processAck(m);
+                break;
+            case Message.TYPE_NOTIFY:
+                respondToNotify(m);
+                break;
+            case Message.TYPE_PING:
+                respondToPing(m);
+                break;
+            case Message.TYPE_SUBSCRIBE:
+                respondToSubscribe(m);
+                break;
+            case Message.TYPE_SHUTDOWN:
+                respondToShutdown(m);
+                break;
+            default:
+                abort("got unexpected message type "+m.getType(), new IOException("got unexpected message type "+m.getType()));
+        }
+    }
 }
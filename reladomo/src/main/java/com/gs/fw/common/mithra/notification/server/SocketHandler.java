@@ -55,6 +55,25 @@ public abstract class SocketHandler
         return result;
     }
 
+    /**
+     * Takes the next queued message without waiting.
+     * @return the message, or null if there is nothing to write
+     */
+    public Message pollMessageToWrite()
+    {
+        Message m = writerQueue.pollFirst();
+        if (m != null && m.requiresAck())
+        {
+            unAcknowledgedMessages.add(m);
+        }
+        return m;
+    }
+
+    protected void queueMessage(Message m)
+    {
+        writerQueue.add(m);
+    }
+
     public String getDiagnosticMessage()
     {
         return diagnosticMessage;
@@ -86,7 +105,7 @@ public abstract class SocketHandler
     protected void sendAck(Message m)
     {
         Message ack = Message.createAckMessage(m, this.getSenderId());
-        writerQueue.add(ack);
+        queueMessage(ack);
     }
 
     protected abstract int getNextMessageId();
@@ -100,7 +119,7 @@ public abstract class SocketHandler
         m.setMessageId(getNextMessageId());
         m.setPayloadSize(0);
         m.setPacketStatus(Message.PACKET_STATUS_LAST);
-        writerQueue.add(m);
+        queueMessage(m);
     }
 
     public void waitForAllAcks()
@@ -71,6 +71,7 @@ import com.gs.fw.common.mithra.querycache.CompactUpdateCountOperation;
 import com.gs.fw.common.mithra.querycache.QueryCache;
 import com.gs.fw.common.mithra.tempobject.MithraTuplePersister;
 import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.transaction.WriteBehindWriter;
 import com.gs.fw.common.mithra.util.Filter;
 import com.gs.fw.common.mithra.util.ListFactory;
 import com.gs.fw.common.mithra.util.MithraFastList;
@@ -82,6 +83,8 @@ import com.gs.fw.common.mithra.util.ReflectionMethodCache;
 import com.gs.fw.common.mithra.util.RenewedCacheStats;
 import com.gs.reladomo.metadata.PrivateReladomoClassMetaData;
 import com.gs.reladomo.metadata.ReladomoClassMetaData;
+import com.gs.reladomo.metrics.ReladomoMetricType;
+import com.gs.reladomo.metrics.ReladomoMetrics;
 import org.eclipse.collections.api.block.HashingStrategy;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
@@ -134,6 +137,7 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
     private transient static final Object NO_GROUP_BY_KEY = new Object();
     private transient MithraPerformanceData performanceData = new MithraPerformanceData(this);
     private transient boolean isIndependent;
+    private transient volatile WriteBehindWriter writeBehindWriter;
     private transient boolean isPureHome;
     private transient boolean isForTempObject;
     private transient String pureNotificationId = null;
@@ -391,6 +395,11 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
     @Override
     public synchronized void destroy()
     {
+        if (this.writeBehindWriter != null)
+        {
+            this.writeBehindWriter.shutdown();
+            this.writeBehindWriter = null;
+        }
         this.cache.destroy();
         this.queryCache.destroy();
         this.queryCache = null;
@@ -482,9 +491,10 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
 
     public CachedQuery zFindInMemory(Operation op, OrderBy orderby)
     {
+        long startNanos = ReladomoMetrics.isEnabled() ? System.nanoTime() : 0;
         QueryCache queryCache = this.getQueryCache();
         CachedQuery result = queryCache.findByEquality(op, false);
-        result = cloneOrAnalyzeAndFindInMemory(op, orderby, false, queryCache, result, null);
+        result = cloneOrAnalyzeAndFindInMemory(op, orderby, false, queryCache, result, null, startNanos);
         return result;
     }
 
@@ -588,6 +598,12 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
 
     public Cursor findCursorFromServer(Operation op, Filter postLoadFilter, OrderBy orderby, int maxObjectsToRetrieve,
                                        boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin)
+    {
+        return this.findCursorFromServer(op, postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin, false);
+    }
+
+    public Cursor findCursorFromServer(Operation op, Filter postLoadFilter, OrderBy orderby, int maxObjectsToRetrieve,
+                                       boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin, boolean bypassObjectCache)
     {
         if (op.zIsNone())
         {
@@ -595,22 +611,22 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
         }
         if (MithraManagerProvider.getMithraManager().isInTransaction())
         {
-            return findCursorFromServerWithoutRetry(op, postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin);
+            return findCursorFromServerWithoutRetry(op, postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin, bypassObjectCache);
         }
         else
         {
-            return findCursorFromServerWithRetry(op, postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin);
+            return findCursorFromServerWithRetry(op, postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin, bypassObjectCache);
         }
     }
 
-    private Cursor findCursorFromServerWithRetry(Operation op, Filter postLoadFilter, OrderBy orderby, int maxObjectsToRetrieve, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin)
+    private Cursor findCursorFromServerWithRetry(Operation op, Filter postLoadFilter, OrderBy orderby, int maxObjectsToRetrieve, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin, boolean bypassObjectCache)
     {
         int retriesLeft = MithraTransaction.DEFAULT_TRANSACTION_RETRIES;
         while (true)
         {
             try
             {
-                return findCursorFromServerWithoutRetry(op, postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin);
+                return findCursorFromServerWithoutRetry(op, postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin, bypassObjectCache);
             }
             catch (MithraBusinessException e)
             {
@@ -619,11 +635,11 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
         }
     }
 
-    private Cursor findCursorFromServerWithoutRetry(Operation op, Filter postLoadFilter, OrderBy orderby, int maxObjectsToRetrieve, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin)
+    private Cursor findCursorFromServerWithoutRetry(Operation op, Filter postLoadFilter, OrderBy orderby, int maxObjectsToRetrieve, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin, boolean bypassObjectCache)
     {
-        boolean bypassLocalCache = !this.isPureHome() && (this.disableCache || bypassCache);
+        boolean bypassLocalCache = !this.isCacheAuthoritative() && (this.disableCache || bypassCache);
         this.flushTransaction(op, bypassLocalCache);
-        Cursor cursor = this.getMithraObjectReader().findCursor(new AnalyzedOperation(op, orderby), postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin);
+        Cursor cursor = this.getMithraObjectReader().findCursor(new AnalyzedOperation(op, orderby), postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin, bypassObjectCache);
         MithraManagerProvider.getMithraManager().incrementDatabaseRetrieveCount();
         return cursor;
     }
@@ -698,7 +714,7 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
         return true;
     }
 
-    private CachedQuery cloneOrAnalyzeAndFindInMemory(Operation op, OrderBy orderby, boolean forRelationship, QueryCache queryCache, CachedQuery result, AnalyzedOperation analyzedOperation)
+    private CachedQuery cloneOrAnalyzeAndFindInMemory(Operation op, OrderBy orderby, boolean forRelationship, QueryCache queryCache, CachedQuery result, AnalyzedOperation analyzedOperation, long startNanos)
     {
         if (result == null && requiresAnalysis(op))
         {
@@ -714,11 +730,16 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
         if (result == null)
         {
             result = findInCache(op, analyzedOperation, orderby, forRelationship);
+            if (result != null)
+            {
+                this.recordCacheMetric(ReladomoMetricType.CACHE_FIND, startNanos, result);
+            }
         }
         else
         {
             this.getPerformanceData().incrementQueryCacheHits();
             result = result.getCloneIfDifferentOrderBy(orderby);
+            this.recordCacheMetric(ReladomoMetricType.QUERY_CACHE_HIT, startNanos, result);
         }
         if (result == null)
         {
@@ -726,11 +747,21 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
             if (result != null)
             {
                 this.getPerformanceData().incrementSubQueryCacheHits();
+                this.recordCacheMetric(ReladomoMetricType.SUB_QUERY_CACHE_HIT, startNanos, result);
             }
         }
         return result;
     }
 
+    private void recordCacheMetric(ReladomoMetricType type, long startNanos, CachedQuery cachedQuery)
+    {
+        // startNanos is 0 when metrics were off as the find started
+        if (startNanos != 0 && ReladomoMetrics.isEnabled())
+        {
+            ReladomoMetrics.record(this.getFinderClassName(), type, startNanos, cachedQuery.getResult().size());
+        }
+    }
+
     protected abstract CachedQuery findInCache(Operation op, AnalyzedOperation analyzedOperation, OrderBy orderby, boolean forRelationship);
 
     protected void flushTransaction(Operation op, boolean bypassCache)
@@ -838,20 +869,21 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
             noneResult.setResult(ListFactory.EMPTY_LIST);
             return noneResult;
         }
-        boolean bypassLocalCache = !this.isPureHome() &&
+        boolean bypassLocalCache = !this.isCacheAuthoritative() &&
                 ((!forRelationship && this.disableCache &&
                         !(this.isTransactional && MithraManagerProvider.getMithraManager().isInTransaction())) || bypassCache);
         AnalyzedOperation analyzedOperation = null;
         CachedQuery result = null;
         if (!bypassLocalCache)
         {
+            long startNanos = ReladomoMetrics.isEnabled() ? System.nanoTime() : 0;
             QueryCache queryCache = this.getQueryCache();
             result = queryCache.findByEquality(op, forRelationship);
             if (result == null && requiresAnalysis(op))
             {
                 analyzedOperation = new AnalyzedOperation(op, orderby);
             }
-            result = cloneOrAnalyzeAndFindInMemory(op, orderby, forRelationship, queryCache, result, analyzedOperation);
+            result = cloneOrAnalyzeAndFindInMemory(op, orderby, forRelationship, queryCache, result, analyzedOperation, startNanos);
         }
         else
         {
@@ -888,7 +920,7 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
         List<MithraAggregateAttribute> aggregateAttributes = new FastList<com.gs.fw.common.mithra.MithraAggregateAttribute>(nameToAggregateAttributeMap.values());
         List<MithraGroupByAttribute> groupByAttributes = new FastList<MithraGroupByAttribute>(nameToGroupByAttributeMap.values());
 
-        boolean bypassLocalCache = !this.isPureHome() &&
+        boolean bypassLocalCache = !this.isCacheAuthoritative() &&
                 ((this.disableCache &&
                         !(this.isTransactional && MithraManagerProvider.getMithraManager().isInTransaction())) || bypassCache);
 
@@ -933,9 +965,10 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
         if (!bypassLocalCache && hasNoToManyGroupBys(groupByAttributes) && this.findDeepRelationshipsInMemory(op, aggregateAttributes, groupByAttributes))
         {
             Operation aggregateOp = createOperationForInMemoryAggregation(op, groupByAttributes);
+            long startNanos = ReladomoMetrics.isEnabled() ? System.nanoTime() : 0;
             QueryCache queryCache = this.getQueryCache();
             result = queryCache.findByEquality(aggregateOp, false);
-            result = cloneOrAnalyzeAndFindInMemory(aggregateOp, null, false, queryCache, result, null);
+            result = cloneOrAnalyzeAndFindInMemory(aggregateOp, null, false, queryCache, result, null, startNanos);
         }
         return result;
     }
@@ -946,7 +979,7 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
         List<MithraAggregateAttribute> aggregateAttributes = new FastList<com.gs.fw.common.mithra.MithraAggregateAttribute>(nameToAggregateAttributeMap.values());
         List<MithraGroupByAttribute> groupByAttributes = new FastList<MithraGroupByAttribute>(nameToGroupByAttributeMap.values());
 
-        boolean bypassLocalCache = !this.isPureHome() &&
+        boolean bypassLocalCache = !this.isCacheAuthoritative() &&
                 ((this.disableCache &&
                         !(this.isTransactional && MithraManagerProvider.getMithraManager().isInTransaction())) || bypassCache);
 
@@ -1408,7 +1441,7 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
     public MithraDataObject refresh(MithraDataObject data, boolean lockInDatabase)
             throws MithraDatabaseException
     {
-        if (this.isPureHome())
+        if (this.isCacheAuthoritative())
         {
             MithraTransactionalObject obj = (MithraTransactionalObject) this.getCache().getObjectByPrimaryKey(data, true);
             if (obj == null) return null;
@@ -1526,6 +1559,22 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
         return isIndependent;
     }
 
+    public WriteBehindWriter getWriteBehindWriter()
+    {
+        return writeBehindWriter;
+    }
+
+    public void setWriteBehindWriter(WriteBehindWriter writeBehindWriter)
+    {
+        this.writeBehindWriter = writeBehindWriter;
+    }
+
+    // the database of a write behind class can be behind the cache, so like a pure object, the cache is never bypassed
+    protected boolean isCacheAuthoritative()
+    {
+        return this.isPureHome() || this.writeBehindWriter != null;
+    }
+
     protected CachedQuery findInMemoryForAnalyzed(AnalyzedOperation analyzedOperation, OrderBy orderby, boolean forRelationship, CachedQuery result, QueryCache queryCache)
     {
         if (result == null && analyzedOperation.isAnalyzedOperationDifferent())
@@ -39,6 +39,15 @@ public interface MithraObjectReader
 
     public Cursor findCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin);
 
+    /**
+     * @param bypassObjectCache if true, the cursor returns new objects that are not put in (or looked up from) the cache.
+     *                          Readers that always go through the cache ignore it.
+     */
+    default Cursor findCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin, boolean bypassObjectCache)
+    {
+        return this.findCursor(analyzedOperation, postLoadFilter, orderby, rowcount, bypassCache, maxParallelDegree, forceImplicitJoin);
+    }
+
     public int count(Operation op);
 
     public List computeFunction(Operation op, OrderBy orderby, String sqlExpression,
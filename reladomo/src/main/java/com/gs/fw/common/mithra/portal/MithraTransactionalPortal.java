@@ -261,7 +261,7 @@ public class MithraTransactionalPortal extends MithraAbstractObjectPortal
         try
         {
             tx.zSetOperationEvaluationMode(true);
-            if (this.isPureHome() || (!this.isOperationPartiallyCached(op) && !this.txParticipationRequired(tx, op)))
+            if (this.isCacheAuthoritative() || (!this.isOperationPartiallyCached(op) && !this.txParticipationRequired(tx, op)))
             {
                 resultList = this.resolveOperationOnCache(op);
             }
@@ -281,7 +281,7 @@ public class MithraTransactionalPortal extends MithraAbstractObjectPortal
         {
             tx.zSetOperationEvaluationMode(oldEvaluationMode);
         }
-        if (this.isPureHome())
+        if (this.isCacheAuthoritative())
         {
             checkTransactionParticipationForPureObject(resultList, tx);
         }
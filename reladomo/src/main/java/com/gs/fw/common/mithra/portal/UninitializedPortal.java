@@ -32,6 +32,7 @@ import com.gs.fw.common.mithra.querycache.CachedQuery;
 import com.gs.fw.common.mithra.querycache.QueryCache;
 import com.gs.fw.common.mithra.tempobject.MithraTuplePersister;
 import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.transaction.WriteBehindWriter;
 import com.gs.fw.common.mithra.util.Filter;
 import com.gs.fw.common.mithra.util.MithraPerformanceData;
 import com.gs.fw.common.mithra.util.PersisterId;
@@ -141,6 +142,11 @@ public class UninitializedPortal implements MithraObjectPortal
         return initializeNow("findCursorFromServer").findCursorFromServer(op, postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin);
     }
 
+    public Cursor findCursorFromServer(Operation op, Filter postLoadFilter, OrderBy orderby, int maxObjectsToRetrieve, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin, boolean bypassObjectCache)
+    {
+        return initializeNow("findCursorFromServer").findCursorFromServer(op, postLoadFilter, orderby, maxObjectsToRetrieve, bypassCache, maxParallelDegree, forceImplicitJoin, bypassObjectCache);
+    }
+
     public List findForMassDeleteInMemory(Operation op, MithraTransaction tx)
     {
         return initializeNow("findForMassDeleteInMemory").findForMassDeleteInMemory(op, tx);
@@ -416,6 +422,16 @@ public class UninitializedPortal implements MithraObjectPortal
         initializeNow("setIndependent").setIndependent(independent);
     }
 
+    public WriteBehindWriter getWriteBehindWriter()
+    {
+        return initializeNow("getWriteBehindWriter").getWriteBehindWriter();
+    }
+
+    public void setWriteBehindWriter(WriteBehindWriter writeBehindWriter)
+    {
+        initializeNow("setWriteBehindWriter").setWriteBehindWriter(writeBehindWriter);
+    }
+
     public void setPureHome(boolean pureHome, String pureNotificationId)
     {
         initializeNow("setPureHome").setPureHome(pureHome, pureNotificationId);
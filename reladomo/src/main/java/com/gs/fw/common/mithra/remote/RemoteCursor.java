@@ -29,6 +29,15 @@ import java.util.NoSuchElementException;
 
 public class RemoteCursor implements Cursor
 {
+    /**
+     * The number of batches (of up to 1000 objects) the server reads ahead and sends per continue request.
+     * Single threaded, non-transactional cursors also request the next window while the current one is consumed.
+     */
+    public static final int CREDIT_WINDOW = Integer.getInteger("mithra.remote.cursor.creditWindow", 4);
+
+    private static final AutoShutdownThreadExecutor PREFETCH_EXECUTOR = new AutoShutdownThreadExecutor(
+            Integer.getInteger("mithra.remote.cursor.prefetchThreads", 16), "Remote Cursor Prefetch");
+
     private RemoteMithraObjectPersister remoteMithraObjectPersister;
     private List currentBatch;
     private boolean isRemoteSideFinished;
@@ -43,6 +52,9 @@ public class RemoteCursor implements Cursor
     private IntObjectHashMap<RemoteContinuedCursorResult> orderedResults;
     private AutoShutdownThreadExecutor executor;
     private volatile Throwable error;
+    private boolean prefetchPending;
+    private boolean prefetchDone;
+    private RemoteContinuedCursorResult prefetched;
 
     public RemoteCursor(RemoteMithraObjectPersister remoteMithraObjectPersister, List initialList, boolean isRemoteSideFinished,
             int remoteQueueSize, RemoteTransactionId remoteCursorId)
@@ -86,6 +98,14 @@ public class RemoteCursor implements Cursor
                 }
             }
         }
+        if (prefetchPending)
+        {
+            RemoteContinuedCursorResult lastPrefetched = waitForPrefetch();
+            if (lastPrefetched == null || lastPrefetched.isFinished())
+            {
+                isRemoteSideFinished = true;
+            }
+        }
         if (isRemoteSideFinished || isRemoteSideFinishedWaitingInQueue) return;
         this.remoteMithraObjectPersister.closeCursor(this.remoteCursorId);
         checkError();
@@ -180,7 +200,16 @@ public class RemoteCursor implements Cursor
 
     private void readMoreSingleThreaded()
     {
-        RemoteContinuedCursorResult continuedCursorResult = remoteMithraObjectPersister.continueCursor(this);
+        RemoteContinuedCursorResult continuedCursorResult;
+        if (prefetchPending)
+        {
+            continuedCursorResult = waitForPrefetch();
+            checkError();
+        }
+        else
+        {
+            continuedCursorResult = remoteMithraObjectPersister.continueCursor(this, CREDIT_WINDOW);
+        }
         if (continuedCursorResult == null)
         {
             this.currentPos = 0;
@@ -191,7 +220,63 @@ public class RemoteCursor implements Cursor
         else
         {
             setMoreObjects(continuedCursorResult);
+            if (!this.isRemoteSideFinished && !this.isTransactional && this.maxParallelDegree <= 1)
+            {
+                startPrefetch();
+            }
+        }
+    }
+
+    private synchronized void startPrefetch()
+    {
+        prefetchPending = true;
+        prefetchDone = false;
+        PREFETCH_EXECUTOR.submit(new Runnable()
+        {
+            public void run()
+            {
+                RemoteContinuedCursorResult continuedCursorResult = null;
+                Throwable prefetchError = null;
+                try
+                {
+                    continuedCursorResult = remoteMithraObjectPersister.continueCursor(RemoteCursor.this, CREDIT_WINDOW);
+                }
+                catch (Throwable e)
+                {
+                    remoteMithraObjectPersister.getLogger().error("Remote cursor error ", e);
+                    prefetchError = e;
+                }
+                synchronized (RemoteCursor.this)
+                {
+                    if (prefetchError != null)
+                    {
+                        error = prefetchError;
+                    }
+                    prefetched = continuedCursorResult;
+                    prefetchDone = true;
+                    RemoteCursor.this.notifyAll();
+                }
+            }
+        });
+    }
+
+    private synchronized RemoteContinuedCursorResult waitForPrefetch()
+    {
+        while (!prefetchDone)
+        {
+            try
+            {
+                this.wait();
+            }
+            catch (InterruptedException e)
+            {
+                //ignore
+            }
         }
+        prefetchPending = false;
+        RemoteContinuedCursorResult result = prefetched;
+        prefetched = null;
+        return result;
     }
 
     private void setMoreObjects(RemoteContinuedCursorResult continuedCursorResult)
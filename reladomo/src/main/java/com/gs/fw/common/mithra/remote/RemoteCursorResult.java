@@ -44,6 +44,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class RemoteCursorResult extends MithraRemoteResult
 {
     private static final int BATCH_SIZE = 1000;
+    private static final int MAX_READ_AHEAD_BATCHES = Integer.getInteger("mithra.remote.cursor.maxReadAheadBatches", 32);
     private static final AtomicInteger ID_FACTORY = new AtomicInteger(0);
     private static final UnifiedMap<RemoteTransactionId, RemoteCursorResult> CURSOR_MAP = new UnifiedMap<RemoteTransactionId, RemoteCursorResult>();
     private static final Logger logger = LoggerFactory.getLogger(RemoteCursorResult.class.getName());
@@ -66,6 +67,7 @@ public class RemoteCursorResult extends MithraRemoteResult
     private int remoteQueueSize;
     private volatile Throwable remoteError;
     private volatile int batchNumber;
+    private transient volatile int readAheadBatches = 1;
 
     public RemoteCursorResult()
     {
@@ -107,7 +109,7 @@ public class RemoteCursorResult extends MithraRemoteResult
         }
         if (this.worker == null)
         {
-            this.queue = new LinkedBlockingQueue<ListWithOrder>(getMaxQueueLength() + 2);
+            this.queue = new LinkedBlockingQueue<ListWithOrder>(Math.max(maxParallelDegree * 3, MAX_READ_AHEAD_BATCHES) + 2);
             Cursor cursor = op.getResultObjectPortal().findCursorFromServer(
                     this.op, this.postLoadFilter, this.orderBy,
                     this.maxObjectsToRetrieve, this.bypassCache, this.maxParallelDegree, this.forceImplicitJoin);
@@ -227,7 +229,7 @@ public class RemoteCursorResult extends MithraRemoteResult
 
     private int getMaxQueueLength()
     {
-        return maxParallelDegree * 3;
+        return Math.max(maxParallelDegree * 3, readAheadBatches);
     }
 
     public static RemoteCursorResult getExisting(RemoteTransactionId remoteCursorId)
@@ -238,8 +240,18 @@ public class RemoteCursorResult extends MithraRemoteResult
         }
     }
 
-    public RemoteContinuedCursorResult getContinuedResult()
+    /**
+     * Waits for the next batch and returns it along with the batches already queued behind it, up to maxBatches.
+     * The server keeps reading ahead at least as many batches as the client asks for, capped at
+     * mithra.remote.cursor.maxReadAheadBatches.
+     */
+    public RemoteContinuedCursorResult getContinuedResult(int maxBatches)
     {
+        maxBatches = Math.min(maxBatches, MAX_READ_AHEAD_BATCHES);
+        if (maxBatches > this.readAheadBatches)
+        {
+            this.readAheadBatches = maxBatches;
+        }
         if (remoteError != null)
         {
             synchronized (CURSOR_MAP)
@@ -270,9 +282,25 @@ public class RemoteCursorResult extends MithraRemoteResult
                 //ignore
             }
         }
+        List resultList = moreResults.list;
+        int order = moreResults.order;
+        for (int i = 1; i < maxBatches; i++)
+        {
+            ListWithOrder queued = queue.poll();
+            if (queued == null)
+            {
+                break;
+            }
+            if (resultList == moreResults.list)
+            {
+                resultList = new FastList(resultList);
+            }
+            resultList.addAll(queued.list);
+            order = queued.order;
+        }
         if (!worker.isDone()) this.serverCursorExecutor.keepReading();
         boolean finished = checkFinished();
-        return new RemoteContinuedCursorResult(moreResults.list, moreResults.order, finished, queue.size(), this.op, serverContext);
+        return new RemoteContinuedCursorResult(resultList, order, finished, queue.size(), this.op, serverContext);
     }
 
     private boolean checkFinished()
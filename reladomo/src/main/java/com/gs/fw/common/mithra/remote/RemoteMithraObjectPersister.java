@@ -54,10 +54,13 @@ import java.util.Set;
 public class RemoteMithraObjectPersister implements MithraDatedObjectPersister, MithraTuplePersister
 {
     private RemoteMithraService remoteMithraService;
+    private transient volatile int batchedContinueSupport; // 0 unknown, 1 supported, -1 older server
     private transient RelatedFinder finder;
     private UpdateDataChooser updateDataChooser;
     private Logger logger;
     private static final ClientTransactionContext NULL_CLIENT_TRANSACTION_CONTEXT = new ClientTransactionContext(null, null);
+    // what a servlet proxy server reports for a method its service interface doesn't have
+    private static final String NO_SERVER_METHOD_MESSAGE = "No server method matching";
 
     public RemoteMithraObjectPersister(RemoteMithraService remoteMithraService, RelatedFinder finder,
                                        boolean isDated)
@@ -779,6 +782,61 @@ public class RemoteMithraObjectPersister implements MithraDatedObjectPersister,
         return this.remoteMithraService.continueCursor(remoteCursor.getRemoteCursorId());
     }
 
+    /**
+     * Continues the cursor with up to maxBatches batches, or a single batch if the server predates batched continues.
+     */
+    public RemoteContinuedCursorResult continueCursor(RemoteCursor remoteCursor, int maxBatches)
+    {
+        RemoteTransactionId remoteCursorId = remoteCursor.getRemoteCursorId();
+        if (maxBatches > 1 && this.isBatchedContinueSupported(remoteCursorId))
+        {
+            return this.remoteMithraService.continueCursor(remoteCursorId, maxBatches);
+        }
+        return this.remoteMithraService.continueCursor(remoteCursorId);
+    }
+
+    private boolean isBatchedContinueSupported(RemoteTransactionId remoteCursorId)
+    {
+        if (this.batchedContinueSupport == 0)
+        {
+            try
+            {
+                // the server never hands out this id, so a server that knows the method answers null without side effects
+                this.remoteMithraService.continueCursor(new RemoteTransactionId(remoteCursorId.getServerVmId(), -1), 1);
+                this.batchedContinueSupport = 1;
+            }
+            catch (RuntimeException e)
+            {
+                if (!isMissingRemoteMethod(e))
+                {
+                    throw e; // a transient failure says nothing about the server version; probe again next time
+                }
+                logger.info("remote server does not support batched cursor continues, reading one batch at a time", e);
+                this.batchedContinueSupport = -1;
+            }
+        }
+        return this.batchedContinueSupport > 0;
+    }
+
+    private static boolean isMissingRemoteMethod(Throwable e)
+    {
+        Throwable cause = e;
+        while (cause != null)
+        {
+            if (cause instanceof NoSuchMethodException || cause instanceof NoSuchMethodError || cause instanceof AbstractMethodError)
+            {
+                return true;
+            }
+            String message = cause.getMessage();
+            if (message != null && message.contains(NO_SERVER_METHOD_MESSAGE))
+            {
+                return true;
+            }
+            cause = cause.getCause() == cause ? null : cause.getCause();
+        }
+        return false;
+    }
+
     public void closeCursor(RemoteTransactionId remoteCursorId)
     {
         this.remoteMithraService.closeCursor(remoteCursorId);
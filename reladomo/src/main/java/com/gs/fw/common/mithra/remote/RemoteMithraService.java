@@ -138,5 +138,7 @@ public interface RemoteMithraService
 
     public RemoteContinuedCursorResult continueCursor(RemoteTransactionId remoteCursorId);
 
+    public RemoteContinuedCursorResult continueCursor(RemoteTransactionId remoteCursorId, int maxBatches);
+
     public void closeCursor(RemoteTransactionId remoteCursorId);
 }
@@ -631,6 +631,11 @@ public class RemoteMithraServiceImpl implements RemoteMithraService
     }
 
     public RemoteContinuedCursorResult continueCursor(RemoteTransactionId remoteCursorId)
+    {
+        return this.continueCursor(remoteCursorId, 1);
+    }
+
+    public RemoteContinuedCursorResult continueCursor(RemoteTransactionId remoteCursorId, int maxBatches)
     {
         if (remoteCursorId.getServerVmId() != VM_ID)
         {
@@ -641,7 +646,7 @@ public class RemoteMithraServiceImpl implements RemoteMithraService
         {
             return null;
         }
-        return original.getContinuedResult();
+        return original.getContinuedResult(maxBatches);
     }
 
     public void closeCursor(RemoteTransactionId remoteCursorId)
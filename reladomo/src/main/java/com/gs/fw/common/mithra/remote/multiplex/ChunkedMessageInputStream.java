@@ -0,0 +1,145 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote.multiplex;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The receiving end of one message. The connection's reader thread adds the chunks as their frames arrive, and the
+ * consumer can start deserializing before the last chunk has been received.
+ */
+public class ChunkedMessageInputStream extends InputStream
+{
+    private static final byte[] END = new byte[0];
+
+    private final LinkedBlockingQueue<byte[]> chunks = new LinkedBlockingQueue<byte[]>();
+    private final long timeoutMillis;
+    private volatile IOException failure;
+    private byte[] current;
+    private int position;
+    private boolean ended;
+
+    /**
+     * @param timeoutMillis how long to wait for the next chunk. 0 waits forever.
+     */
+    public ChunkedMessageInputStream(long timeoutMillis)
+    {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public void addChunk(byte[] chunk, boolean last)
+    {
+        if (chunk.length > 0)
+        {
+            chunks.add(chunk);
+        }
+        if (last)
+        {
+            chunks.add(END);
+        }
+    }
+
+    public void fail(IOException e)
+    {
+        this.failure = e;
+        chunks.add(END);
+    }
+
+    private boolean nextChunk() throws IOException
+    {
+        if (ended)
+        {
+            return false;
+        }
+        byte[] chunk;
+        try
+        {
+            if (timeoutMillis > 0)
+            {
+                chunk = chunks.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+                if (chunk == null)
+                {
+                    throw new SocketTimeoutException("no response within " + timeoutMillis + " ms");
+                }
+            }
+            else
+            {
+                chunk = chunks.take();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            throw new InterruptedIOException("interrupted while waiting for the next chunk");
+        }
+        if (chunk == END)
+        {
+            ended = true;
+            if (failure != null)
+            {
+                throw new IOException(failure.getMessage(), failure);
+            }
+            return false;
+        }
+        current = chunk;
+        position = 0;
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+        while (current == null || position == current.length)
+        {
+            if (!nextChunk())
+            {
+                return -1;
+            }
+        }
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        if (len == 0)
+        {
+            return 0;
+        }
+        while (current == null || position == current.length)
+        {
+            if (!nextChunk())
+            {
+                return -1;
+            }
+        }
+        int count = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available()
+    {
+        return current == null ? 0 : current.length - position;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote.multiplex;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The sending end of one message. Bytes are cut into frames of at most chunkSize bytes, so a large message doesn't
+ * hold up the other messages multiplexed on the same connection. {@link #close()} sends the last frame.
+ */
+public class ChunkedMessageOutputStream extends OutputStream
+{
+    private final MultiplexedConnection connection;
+    private final long correlationId;
+    private final byte[] buffer;
+    private int count;
+    private boolean closed;
+
+    public ChunkedMessageOutputStream(MultiplexedConnection connection, long correlationId, int chunkSize)
+    {
+        this.connection = connection;
+        this.correlationId = correlationId;
+        this.buffer = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException
+    {
+        if (count == buffer.length)
+        {
+            sendChunk(0);
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+        while (len > 0)
+        {
+            if (count == buffer.length)
+            {
+                sendChunk(0);
+            }
+            int toCopy = Math.min(len, buffer.length - count);
+            System.arraycopy(b, off, buffer, count, toCopy);
+            count += toCopy;
+            off += toCopy;
+            len -= toCopy;
+        }
+    }
+
+    private void sendChunk(int flags) throws IOException
+    {
+        connection.writeFrame(correlationId, flags, buffer, count);
+        count = 0;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        if (!closed)
+        {
+            closed = true;
+            sendChunk(MultiplexedConnection.FLAG_LAST);
+        }
+    }
+
+    /**
+     * Ends the message without its remaining bytes; the receiver fails to read it.
+     */
+    public void abort() throws IOException
+    {
+        if (!closed)
+        {
+            closed = true;
+            count = 0;
+            sendChunk(MultiplexedConnection.FLAG_LAST | MultiplexedConnection.FLAG_ABORT);
+        }
+    }
+}
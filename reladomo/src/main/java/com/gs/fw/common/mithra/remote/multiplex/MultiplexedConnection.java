@@ -0,0 +1,377 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote.multiplex;
+
+import com.gs.fw.common.mithra.util.lz4.LZ4BlockInputStream;
+import com.gs.fw.common.mithra.util.lz4.LZ4HCJavaSafeCompressor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A socket carrying many concurrent messages. Each message is identified by a correlation id and sent as one or more
+ * frames: int length, long correlation id, byte flags, payload. Frames of different messages interleave freely.
+ * A single reader thread routes incoming frames to the {@link ChunkedMessageInputStream} of their message.
+ * <p/>
+ * Frames larger than a threshold are LZ4 compressed when compression was agreed on for the connection.
+ * <p/>
+ * Both sides use the chunk size the client asks for in its hello. A frame that is longer than a chunk (plus the
+ * compression overhead), or that claims to decompress to more than a chunk, closes the connection.
+ */
+public abstract class MultiplexedConnection
+{
+    private static final Logger logger = LoggerFactory.getLogger(MultiplexedConnection.class);
+
+    public static final int FLAG_LAST = 1;
+    public static final int FLAG_ABORT = 2;
+    public static final int FLAG_COMPRESSED = 4;
+    public static final int FLAG_HELLO = 8;
+
+    protected static final long HELLO_CORRELATION_ID = 0;
+    private static final int FRAME_HEADER_SIZE = 8 + 1;
+    private static final int MIN_COMPRESSED_FRAME = 512;
+    private static final int MAX_HELLO_SIZE = 64 * 1024;
+    public static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final AtomicInteger waitingWriters = new AtomicInteger();
+    private final ConcurrentHashMap<Long, ChunkedMessageInputStream> incoming = new ConcurrentHashMap<Long, ChunkedMessageInputStream>();
+    private final ConcurrentLinkedQueue<FrameCompressor> compressors = new ConcurrentLinkedQueue<FrameCompressor>();
+    private volatile int chunkSize;
+    private volatile int maxFrameLength;
+    private boolean compress;
+    private volatile boolean closed;
+
+    protected MultiplexedConnection(Socket socket, int chunkSize) throws IOException
+    {
+        this.socket = socket;
+        this.setChunkSize(chunkSize);
+        socket.setTcpNoDelay(true);
+        socket.setKeepAlive(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 64 * 1024));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024));
+    }
+
+    /**
+     * Must be called before any message is sent or received, e.g. while handling the hello.
+     */
+    protected void setChunkSize(int chunkSize)
+    {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE)
+        {
+            throw new IllegalArgumentException("chunk size must be between 1 and " + MAX_CHUNK_SIZE + ", got " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.maxFrameLength = FRAME_HEADER_SIZE + 4 + new LZ4HCJavaSafeCompressor().maxCompressedLength(chunkSize);
+    }
+
+    public int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    protected void setCompress(boolean compress)
+    {
+        this.compress = compress;
+    }
+
+    public boolean isCompress()
+    {
+        return compress;
+    }
+
+    public boolean isClosed()
+    {
+        return closed;
+    }
+
+    public Socket getSocket()
+    {
+        return socket;
+    }
+
+    protected void startReading(String threadName)
+    {
+        Thread reader = new Thread(threadName)
+        {
+            @Override
+            public void run()
+            {
+                readFrames();
+            }
+        };
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Called on the reader thread before any frame is routed, e.g. to wait for the other side's hello.
+     */
+    protected void beforeReading() throws IOException
+    {
+        // subclass hook
+    }
+
+    protected void writeHello(byte[] payload) throws IOException
+    {
+        writeFrame(HELLO_CORRELATION_ID, FLAG_HELLO | FLAG_LAST, payload, payload.length);
+    }
+
+    protected DataInputStream readHello() throws IOException
+    {
+        int frameLength = in.readInt();
+        in.readLong();
+        int flags = in.readByte();
+        if ((flags & FLAG_HELLO) == 0 || frameLength < FRAME_HEADER_SIZE || frameLength > MAX_HELLO_SIZE)
+        {
+            throw new IOException("expected a hello from " + socket.getRemoteSocketAddress());
+        }
+        byte[] payload = new byte[frameLength - FRAME_HEADER_SIZE];
+        in.readFully(payload);
+        return new DataInputStream(new ByteArrayInputStream(payload));
+    }
+
+    public ChunkedMessageOutputStream startMessage(long correlationId)
+    {
+        return new ChunkedMessageOutputStream(this, correlationId, chunkSize);
+    }
+
+    protected void registerIncoming(long correlationId, ChunkedMessageInputStream stream) throws IOException
+    {
+        incoming.put(correlationId, stream);
+        if (closed)
+        {
+            incoming.remove(correlationId);
+            throw new IOException("connection to " + socket.getRemoteSocketAddress() + " is closed");
+        }
+    }
+
+    protected void unregisterIncoming(long correlationId)
+    {
+        incoming.remove(correlationId);
+    }
+
+    /**
+     * Called by the reader thread for the first frame of a message nobody is waiting for.
+     *
+     * @return the stream to add the frames of the message to, or null to drop the message
+     */
+    protected abstract ChunkedMessageInputStream createIncoming(long correlationId);
+
+    public void writeFrame(long correlationId, int flags, byte[] payload, int length) throws IOException
+    {
+        FrameCompressor compressor = null;
+        if (compress && length >= MIN_COMPRESSED_FRAME)
+        {
+            compressor = borrowCompressor();
+            if (compressor.compress(payload, length))
+            {
+                payload = compressor.compressed;
+                length = compressor.compressedLength;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+        try
+        {
+            waitingWriters.incrementAndGet();
+            synchronized (out)
+            {
+                waitingWriters.decrementAndGet();
+                if (closed)
+                {
+                    throw new IOException("connection to " + socket.getRemoteSocketAddress() + " is closed");
+                }
+                out.writeInt(FRAME_HEADER_SIZE + length);
+                out.writeLong(correlationId);
+                out.writeByte(flags);
+                out.write(payload, 0, length);
+                if (waitingWriters.get() == 0)
+                {
+                    // whoever is waiting will flush this frame along with its own
+                    out.flush();
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            close();
+            throw e;
+        }
+        finally
+        {
+            if (compressor != null)
+            {
+                compressors.add(compressor);
+            }
+        }
+    }
+
+    private FrameCompressor borrowCompressor()
+    {
+        FrameCompressor result = compressors.poll();
+        if (result == null)
+        {
+            result = new FrameCompressor(chunkSize);
+        }
+        return result;
+    }
+
+    private void readFrames()
+    {
+        LZ4BlockInputStream decompressor = new LZ4BlockInputStream(null);
+        try
+        {
+            beforeReading();
+            while (true)
+            {
+                int frameLength = in.readInt();
+                long correlationId = in.readLong();
+                int flags = in.readByte();
+                boolean compressed = (flags & FLAG_COMPRESSED) != 0;
+                // the lengths come from the other side, so they are checked before anything is allocated
+                if (frameLength < FRAME_HEADER_SIZE + (compressed ? 4 : 0) || frameLength > maxFrameLength
+                        || (!compressed && frameLength - FRAME_HEADER_SIZE > chunkSize))
+                {
+                    throw new IOException("invalid frame length " + frameLength + " from " + socket.getRemoteSocketAddress());
+                }
+                byte[] payload = new byte[frameLength - FRAME_HEADER_SIZE];
+                in.readFully(payload);
+                if (compressed)
+                {
+                    int uncompressedLength = (payload[0] & 0xFF) | ((payload[1] & 0xFF) << 8) | ((payload[2] & 0xFF) << 16) | ((payload[3] & 0xFF) << 24);
+                    if (uncompressedLength < 0 || uncompressedLength > chunkSize)
+                    {
+                        throw new IOException("invalid uncompressed frame length " + uncompressedLength + " from " + socket.getRemoteSocketAddress());
+                    }
+                    byte[] uncompressed = new byte[uncompressedLength];
+                    decompressor.decompress(payload, 4, uncompressed, 0, uncompressed.length);
+                    payload = uncompressed;
+                }
+                ChunkedMessageInputStream stream = incoming.get(correlationId);
+                if (stream == null)
+                {
+                    stream = createIncoming(correlationId);
+                    if (stream == null)
+                    {
+                        continue;
+                    }
+                    incoming.put(correlationId, stream);
+                }
+                boolean last = (flags & FLAG_LAST) != 0;
+                if (last)
+                {
+                    incoming.remove(correlationId);
+                }
+                if ((flags & FLAG_ABORT) != 0)
+                {
+                    stream.fail(new IOException("the sender could not complete the message"));
+                }
+                else
+                {
+                    stream.addChunk(payload, last);
+                }
+            }
+        }
+        catch (EOFException e)
+        {
+            if (!closed)
+            {
+                logger.info("connection closed by " + socket.getRemoteSocketAddress());
+            }
+        }
+        catch (IOException e)
+        {
+            if (!closed)
+            {
+                logger.warn("lost connection to " + socket.getRemoteSocketAddress(), e);
+            }
+        }
+        catch (RuntimeException e)
+        {
+            logger.error("unexpected exception reading from " + socket.getRemoteSocketAddress(), e);
+        }
+        finally
+        {
+            close();
+        }
+    }
+
+    public void close()
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            socket.close();
+        }
+        catch (IOException e)
+        {
+            logger.debug("could not close socket", e);
+        }
+        IOException closedException = new IOException("connection to " + socket.getRemoteSocketAddress() + " was closed");
+        for (Iterator<ChunkedMessageInputStream> it = incoming.values().iterator(); it.hasNext(); )
+        {
+            it.next().fail(closedException);
+            it.remove();
+        }
+        this.connectionClosed();
+    }
+
+    protected void connectionClosed()
+    {
+        // subclass hook
+    }
+
+    private static class FrameCompressor
+    {
+        private final LZ4HCJavaSafeCompressor compressor = new LZ4HCJavaSafeCompressor();
+        private final byte[] compressed;
+        private int compressedLength;
+
+        private FrameCompressor(int chunkSize)
+        {
+            this.compressed = new byte[4 + compressor.maxCompressedLength(chunkSize)];
+        }
+
+        private boolean compress(byte[] payload, int length)
+        {
+            compressed[0] = (byte) length;
+            compressed[1] = (byte) (length >>> 8);
+            compressed[2] = (byte) (length >>> 16);
+            compressed[3] = (byte) (length >>> 24);
+            compressedLength = 4 + compressor.compress(payload, 0, length, compressed, 4);
+            return compressedLength < length;
+        }
+    }
+}
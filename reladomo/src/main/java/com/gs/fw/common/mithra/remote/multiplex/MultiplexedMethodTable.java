@@ -0,0 +1,107 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote.multiplex;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Numbers the methods of a service interface so requests only carry a method index. Both sides sort the methods
+ * by name and parameter types; the hash of the sorted signatures is compared when a connection is opened.
+ */
+public class MultiplexedMethodTable
+{
+    private final Class serviceInterface;
+    private final Method[] methods;
+    private final Map<Method, Integer> methodToIndex = new HashMap<Method, Integer>();
+    private final int signatureHash;
+
+    public MultiplexedMethodTable(Class serviceInterface)
+    {
+        this.serviceInterface = serviceInterface;
+        this.methods = serviceInterface.getMethods();
+        final String[] signatures = new String[methods.length];
+        Integer[] order = new Integer[methods.length];
+        for (int i = 0; i < methods.length; i++)
+        {
+            signatures[i] = signature(methods[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>()
+        {
+            public int compare(Integer o1, Integer o2)
+            {
+                return signatures[o1].compareTo(signatures[o2]);
+            }
+        });
+        Method[] sorted = new Method[methods.length];
+        int hash = serviceInterface.getName().hashCode();
+        for (int i = 0; i < order.length; i++)
+        {
+            sorted[i] = methods[order[i]];
+            hash = hash * 31 + signatures[order[i]].hashCode();
+        }
+        System.arraycopy(sorted, 0, methods, 0, sorted.length);
+        for (int i = 0; i < methods.length; i++)
+        {
+            methodToIndex.put(methods[i], i);
+        }
+        this.signatureHash = hash;
+    }
+
+    private static String signature(Method method)
+    {
+        StringBuilder sb = new StringBuilder(method.getName()).append('(');
+        Class[] params = method.getParameterTypes();
+        for (int i = 0; i < params.length; i++)
+        {
+            if (i > 0)
+            {
+                sb.append(',');
+            }
+            sb.append(params[i].getName());
+        }
+        return sb.append(')').toString();
+    }
+
+    public Class getServiceInterface()
+    {
+        return serviceInterface;
+    }
+
+    public int getSignatureHash()
+    {
+        return signatureHash;
+    }
+
+    /**
+     * @return the index of the method, or -1 if the method isn't part of the service interface
+     */
+    public int getIndex(Method method)
+    {
+        Integer result = methodToIndex.get(method);
+        return result == null ? -1 : result;
+    }
+
+    public Method getMethod(int index)
+    {
+        return index >= 0 && index < methods.length ? methods[index] : null;
+    }
+}
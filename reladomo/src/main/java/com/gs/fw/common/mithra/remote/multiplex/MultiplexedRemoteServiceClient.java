@@ -0,0 +1,287 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote.multiplex;
+
+import com.gs.fw.common.mithra.MithraException;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.Socket;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Client side of the multiplexed transport. Calls from any number of threads share a few persistent connections:
+ * each call gets a correlation id, its request is pipelined behind the other requests on the connection, and the
+ * calling thread deserializes the response while its chunks arrive.
+ * <p/>
+ * To use it as the remote server factory in the runtime configuration:
+ * <pre>
+ * &lt;RemoteServer className="com.gs.fw.common.mithra.remote.multiplex.MultiplexedRemoteServiceClient"&gt;
+ *     &lt;Property name="host" value="appserver"/&gt;
+ *     &lt;Property name="port" value="7001"/&gt;
+ * &lt;/RemoteServer&gt;
+ * </pre>
+ * Optional properties are connections (default 4), timeoutMillis (default 0, wait forever), compress (default true)
+ * and chunkSize (default 64k).
+ */
+public class MultiplexedRemoteServiceClient implements InvocationHandler
+{
+    private static final Logger logger = LoggerFactory.getLogger(MultiplexedRemoteServiceClient.class);
+
+    public static final int DEFAULT_CONNECTIONS = 4;
+
+    private final MultiplexedMethodTable methodTable;
+    private final String host;
+    private final int port;
+    private final long timeoutMillis;
+    private final boolean compress;
+    private final int chunkSize;
+    private final AtomicReferenceArray<ClientConnection> connections;
+    private final Object[] connectionLocks;
+    private final AtomicLong nextCorrelationId = new AtomicLong(1);
+    private final AtomicInteger nextConnection = new AtomicInteger();
+
+    public MultiplexedRemoteServiceClient(Class serviceInterface, String host, int port, int connectionCount,
+            long timeoutMillis, boolean compress, int chunkSize)
+    {
+        if (chunkSize <= 0 || chunkSize > MultiplexedConnection.MAX_CHUNK_SIZE)
+        {
+            throw new IllegalArgumentException("chunk size must be between 1 and " + MultiplexedConnection.MAX_CHUNK_SIZE + ", got " + chunkSize);
+        }
+        this.methodTable = new MultiplexedMethodTable(serviceInterface);
+        this.host = host;
+        this.port = port;
+        this.timeoutMillis = timeoutMillis;
+        this.compress = compress;
+        this.chunkSize = chunkSize;
+        this.connections = new AtomicReferenceArray<ClientConnection>(connectionCount);
+        this.connectionLocks = new Object[connectionCount];
+        for (int i = 0; i < connectionCount; i++)
+        {
+            this.connectionLocks[i] = new Object();
+        }
+    }
+
+    public static RemoteMithraService getInstance(Properties properties)
+    {
+        String host = properties.getProperty("host");
+        String port = properties.getProperty("port");
+        if (host == null || port == null)
+        {
+            throw new MithraException("you must specify host and port properties for this factory");
+        }
+        return create(RemoteMithraService.class, new MultiplexedRemoteServiceClient(RemoteMithraService.class, host, Integer.parseInt(port),
+                Integer.parseInt(properties.getProperty("connections", String.valueOf(DEFAULT_CONNECTIONS))),
+                Long.parseLong(properties.getProperty("timeoutMillis", "0")),
+                Boolean.parseBoolean(properties.getProperty("compress", "true")),
+                Integer.parseInt(properties.getProperty("chunkSize", String.valueOf(MultiplexedRemoteServiceServer.DEFAULT_CHUNK_SIZE)))));
+    }
+
+    public static <T> T create(Class<T> serviceInterface, String host, int port, int connectionCount)
+    {
+        return create(serviceInterface, new MultiplexedRemoteServiceClient(serviceInterface, host, port, connectionCount,
+                0, true, MultiplexedRemoteServiceServer.DEFAULT_CHUNK_SIZE));
+    }
+
+    public static <T> T create(Class<T> serviceInterface, MultiplexedRemoteServiceClient client)
+    {
+        return (T) Proxy.newProxyInstance(serviceInterface.getClassLoader(), new Class[] { serviceInterface }, client);
+    }
+
+    public static MultiplexedRemoteServiceClient getClient(Object proxy)
+    {
+        return (MultiplexedRemoteServiceClient) Proxy.getInvocationHandler(proxy);
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+    {
+        int methodIndex = methodTable.getIndex(method);
+        if (methodIndex < 0)
+        {
+            return invokeObjectMethod(proxy, method, args);
+        }
+        ClientConnection connection = getConnection();
+        long correlationId = nextCorrelationId.incrementAndGet();
+        ChunkedMessageInputStream response = new ChunkedMessageInputStream(timeoutMillis);
+        boolean fault;
+        Object result;
+        try
+        {
+            connection.registerIncoming(correlationId, response);
+            sendRequest(connection, correlationId, methodIndex, args);
+            ObjectInputStream in = new ObjectInputStream(response);
+            fault = in.readBoolean();
+            result = in.readObject();
+        }
+        catch (IOException e)
+        {
+            connection.unregisterIncoming(correlationId);
+            throw new MithraException("remote call " + method.getName() + " to " + host + ":" + port + " failed", e);
+        }
+        catch (ClassNotFoundException e)
+        {
+            connection.unregisterIncoming(correlationId);
+            throw new MithraException("could not deserialize the response of " + method.getName(), e);
+        }
+        if (fault)
+        {
+            throw (Throwable) result;
+        }
+        return result;
+    }
+
+    private void sendRequest(ClientConnection connection, long correlationId, int methodIndex, Object[] args) throws IOException
+    {
+        ChunkedMessageOutputStream request = connection.startMessage(correlationId);
+        try
+        {
+            ObjectOutputStream out = new ObjectOutputStream(request);
+            out.writeShort(methodIndex);
+            if (args != null)
+            {
+                for (Object arg : args)
+                {
+                    out.writeObject(arg);
+                }
+            }
+            out.flush();
+            request.close();
+        }
+        catch (IOException e)
+        {
+            if (!connection.isClosed())
+            {
+                request.abort();
+            }
+            throw e;
+        }
+    }
+
+    private Object invokeObjectMethod(Object proxy, Method method, Object[] args)
+    {
+        String name = method.getName();
+        if (name.equals("equals"))
+        {
+            return proxy == args[0];
+        }
+        if (name.equals("hashCode"))
+        {
+            return System.identityHashCode(proxy);
+        }
+        if (name.equals("toString"))
+        {
+            return "multiplexed " + methodTable.getServiceInterface().getName() + " at " + host + ":" + port;
+        }
+        throw new UnsupportedOperationException(name);
+    }
+
+    private ClientConnection getConnection()
+    {
+        int index = (nextConnection.getAndIncrement() & Integer.MAX_VALUE) % connections.length();
+        ClientConnection result = connections.get(index);
+        if (result != null && !result.isClosed())
+        {
+            return result;
+        }
+        // only callers of this slot wait for the connect
+        synchronized (connectionLocks[index])
+        {
+            result = connections.get(index);
+            if (result == null || result.isClosed())
+            {
+                try
+                {
+                    result = new ClientConnection(new Socket(host, port), index);
+                }
+                catch (IOException e)
+                {
+                    throw new MithraException("could not connect to " + host + ":" + port, e);
+                }
+                connections.set(index, result);
+            }
+            return result;
+        }
+    }
+
+    public void close()
+    {
+        for (int i = 0; i < connections.length(); i++)
+        {
+            ClientConnection connection = connections.getAndSet(i, null);
+            if (connection != null)
+            {
+                connection.close();
+            }
+        }
+    }
+
+    private class ClientConnection extends MultiplexedConnection
+    {
+        private ClientConnection(Socket socket, int index) throws IOException
+        {
+            super(socket, chunkSize);
+            try
+            {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream hello = new DataOutputStream(bytes);
+                hello.writeUTF(methodTable.getServiceInterface().getName());
+                hello.writeInt(methodTable.getSignatureHash());
+                hello.writeBoolean(compress);
+                hello.writeInt(chunkSize);
+                hello.flush();
+                writeHello(bytes.toByteArray());
+                DataInputStream reply = readHello();
+                boolean accepted = reply.readBoolean();
+                String error = reply.readUTF();
+                if (!accepted)
+                {
+                    throw new IOException("server rejected the connection: " + error);
+                }
+                setCompress(reply.readBoolean());
+            }
+            catch (IOException e)
+            {
+                close();
+                throw e;
+            }
+            startReading("MultiplexedRemoteServiceClientReader-" + host + ":" + port + "-" + index);
+        }
+
+        @Override
+        protected ChunkedMessageInputStream createIncoming(long correlationId)
+        {
+            if (logger.isDebugEnabled())
+            {
+                logger.debug("dropping response " + correlationId + " from " + host + ":" + port + ", nobody is waiting for it");
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote.multiplex;
+
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.remote.RemoteMithraServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves a service interface (normally {@link RemoteMithraService}) to {@link MultiplexedRemoteServiceClient}s.
+ * Requests from all connections run on a shared pool, so a slow request doesn't hold up the other requests
+ * pipelined on the same connection. Responses are streamed back in chunks as they are serialized.
+ */
+public class MultiplexedRemoteServiceServer
+{
+    private static final Logger logger = LoggerFactory.getLogger(MultiplexedRemoteServiceServer.class);
+
+    public static final int DEFAULT_THREADS = Integer.getInteger("mithra.remote.multiplex.serverThreads", 32);
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final MultiplexedMethodTable methodTable;
+    private final Object service;
+    private final int requestedPort;
+    private final int threads;
+    private final boolean allowCompression;
+    private final Set<ServerConnection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+    private volatile boolean shutdown;
+
+    public MultiplexedRemoteServiceServer(Class serviceInterface, Object service, int port)
+    {
+        this(serviceInterface, service, port, DEFAULT_THREADS, true);
+    }
+
+    public MultiplexedRemoteServiceServer(Class serviceInterface, Object service, int port, int threads, boolean allowCompression)
+    {
+        this.methodTable = new MultiplexedMethodTable(serviceInterface);
+        this.service = service;
+        this.requestedPort = port;
+        this.threads = threads;
+        this.allowCompression = allowCompression;
+    }
+
+    public static MultiplexedRemoteServiceServer startRemoteMithraService(int port) throws IOException
+    {
+        MultiplexedRemoteServiceServer server = new MultiplexedRemoteServiceServer(RemoteMithraService.class, new RemoteMithraServiceImpl(), port);
+        server.start();
+        return server;
+    }
+
+    public synchronized void start() throws IOException
+    {
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactory()
+        {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable r)
+            {
+                Thread t = new Thread(r, "MultiplexedRemoteServiceWorker-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        this.serverSocket = new ServerSocket(requestedPort);
+        Thread acceptor = new Thread("MultiplexedRemoteServiceAcceptor-" + serverSocket.getLocalPort())
+        {
+            @Override
+            public void run()
+            {
+                acceptConnections();
+            }
+        };
+        acceptor.setDaemon(true);
+        acceptor.start();
+        logger.info("serving " + methodTable.getServiceInterface().getName() + " on port " + serverSocket.getLocalPort());
+    }
+
+    public int getPort()
+    {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getConnectionCount()
+    {
+        return connections.size();
+    }
+
+    private void acceptConnections()
+    {
+        while (!shutdown)
+        {
+            try
+            {
+                Socket socket = serverSocket.accept();
+                ServerConnection connection = new ServerConnection(socket);
+                connections.add(connection);
+                connection.startReading("MultiplexedRemoteServiceReader-" + connectionCount.incrementAndGet());
+            }
+            catch (IOException e)
+            {
+                if (!shutdown)
+                {
+                    logger.error("could not accept connection", e);
+                }
+            }
+        }
+    }
+
+    public synchronized void shutdown()
+    {
+        shutdown = true;
+        try
+        {
+            if (serverSocket != null)
+            {
+                serverSocket.close();
+            }
+        }
+        catch (IOException e)
+        {
+            logger.debug("could not close server socket", e);
+        }
+        for (ServerConnection connection : connections)
+        {
+            connection.close();
+        }
+        if (executor != null)
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private void invoke(ServerConnection connection, long correlationId, ChunkedMessageInputStream request)
+    {
+        Object result;
+        boolean fault = false;
+        Method method = null;
+        try
+        {
+            ObjectInputStream in = new ObjectInputStream(request);
+            short methodIndex = in.readShort();
+            method = methodTable.getMethod(methodIndex);
+            if (method == null)
+            {
+                throw new NoSuchMethodException("unknown method " + methodIndex + " in request");
+            }
+            Object[] args = new Object[method.getParameterTypes().length];
+            for (int i = 0; i < args.length; i++)
+            {
+                args[i] = in.readObject();
+            }
+            result = method.invoke(service, args);
+        }
+        catch (InvocationTargetException e)
+        {
+            result = e.getTargetException();
+            fault = true;
+            logger.error("an exception occurred while invoking " + method.getName(), e.getTargetException());
+        }
+        catch (Throwable e)
+        {
+            result = e;
+            fault = true;
+            logger.error("could not invoke " + (method == null ? "request" : method.getName()), e);
+        }
+        if (connection.isClosed())
+        {
+            return;
+        }
+        ChunkedMessageOutputStream response = connection.startMessage(correlationId);
+        try
+        {
+            ObjectOutputStream out = new ObjectOutputStream(response);
+            out.writeBoolean(fault);
+            out.writeObject(result);
+            out.flush();
+            response.close();
+        }
+        catch (IOException e)
+        {
+            logger.error("could not send response for " + (method == null ? "request" : method.getName()), e);
+            try
+            {
+                response.abort();
+            }
+            catch (IOException e1)
+            {
+                logger.debug("could not abort response", e1);
+            }
+        }
+    }
+
+    private class ServerConnection extends MultiplexedConnection
+    {
+        private ServerConnection(Socket socket) throws IOException
+        {
+            super(socket, DEFAULT_CHUNK_SIZE);
+        }
+
+        @Override
+        protected void beforeReading() throws IOException
+        {
+            DataInputStream hello = readHello();
+            String interfaceName = hello.readUTF();
+            int signatureHash = hello.readInt();
+            boolean clientCompresses = hello.readBoolean();
+            int clientChunkSize = hello.readInt();
+            String error = "";
+            if (!interfaceName.equals(methodTable.getServiceInterface().getName()))
+            {
+                error = "this server provides " + methodTable.getServiceInterface().getName() + ", not " + interfaceName;
+            }
+            else if (signatureHash != methodTable.getSignatureHash())
+            {
+                error = "client and server versions of " + interfaceName + " don't match";
+            }
+            else if (clientChunkSize <= 0 || clientChunkSize > MAX_CHUNK_SIZE)
+            {
+                error = "chunk size " + clientChunkSize + " is not between 1 and " + MAX_CHUNK_SIZE;
+            }
+            else
+            {
+                // the client's chunk size is used both ways; frames are checked against it
+                setChunkSize(clientChunkSize);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream reply = new DataOutputStream(bytes);
+            reply.writeBoolean(error.isEmpty());
+            reply.writeUTF(error);
+            reply.writeBoolean(clientCompresses && allowCompression);
+            reply.flush();
+            writeHello(bytes.toByteArray());
+            if (!error.isEmpty())
+            {
+                throw new IOException("rejected connection from " + getSocket().getRemoteSocketAddress() + ": " + error);
+            }
+            setCompress(clientCompresses && allowCompression);
+        }
+
+        @Override
+        protected ChunkedMessageInputStream createIncoming(final long correlationId)
+        {
+            final ChunkedMessageInputStream request = new ChunkedMessageInputStream(0);
+            executor.execute(new Runnable()
+            {
+                public void run()
+                {
+                    invoke(ServerConnection.this, correlationId, request);
+                }
+            });
+            return request;
+        }
+
+        @Override
+        protected void connectionClosed()
+        {
+            connections.remove(this);
+        }
+    }
+}
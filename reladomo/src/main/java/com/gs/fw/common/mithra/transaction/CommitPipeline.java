@@ -0,0 +1,271 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.transaction;
+
+import com.gs.fw.common.mithra.MithraDatabaseException;
+import com.gs.fw.common.mithra.MithraDatabaseObject;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.cache.FullUniqueIndex;
+import com.gs.fw.common.mithra.util.DoUntilProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the parts of a commit that don't depend on each other at the same time.
+ * <p>
+ * When enabled (system property <code>mithra.transaction.parallelCommit</code> or {@link #setEnabled(boolean)}):
+ * <ul>
+ * <li>The final flush of a root transaction sends the buffered SQL of independent classes (classes without foreign
+ * keys) to each connection manager concurrently. Classes that share a connection manager share a connection, so
+ * they're flushed one after the other on the same thread. Dependent classes are flushed first, in order, on the
+ * committing thread.</li>
+ * <li>{@link MultiThreadedTx} commits the first resource, which decides the outcome of the transaction, and then
+ * commits the other resources in the background while the cache commit runs.</li>
+ * </ul>
+ * The ordering guarantees are: all buffered SQL is executed before any resource is prepared; the cache is only
+ * committed once the deciding resource has committed; and commit doesn't return until every resource and the
+ * cache have committed. A failure on one of the other resources is reported the same way as before, after the
+ * cache commit.
+ * <p>
+ * Connection managers are told apart by identity. Two connection manager instances that hand out the same
+ * pooled connection inside a transaction must not be used with this option.
+ */
+public class CommitPipeline
+{
+    private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty("mithra.transaction.parallelCommit", "false"));
+
+    private static final LongAdder backgroundTasks = new LongAdder();
+
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newCachedThreadPool(new ThreadFactory()
+    {
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+        public Thread newThread(Runnable r)
+        {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("Mithra Commit Pipeline-" + threadNumber.incrementAndGet());
+            return t;
+        }
+    });
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled)
+    {
+        CommitPipeline.enabled = enabled;
+    }
+
+    /**
+     * @return the number of flushes and resource commits that ran on a pipeline thread, for the whole JVM
+     */
+    public static long getBackgroundTaskCount()
+    {
+        return backgroundTasks.sum();
+    }
+
+    protected static void executeIndependentOperations(MithraLocalTransaction tx, FullUniqueIndex independentOperations)
+    {
+        ConnectionManagerGrouper grouper = new ConnectionManagerGrouper();
+        independentOperations.forAll(grouper);
+        List<List<TxOperationsForIndependentClass>> groups = grouper.groups;
+        if (groups.size() < 2)
+        {
+            if (groups.size() == 1)
+            {
+                executeGroup(groups.get(0));
+            }
+            return;
+        }
+        tx.seedParallelExecutionState();
+        tx.setInParallelExecution(true);
+        try
+        {
+            List<Future<Void>> futures = FastList.newList(groups.size() - 1);
+            for (int i = 1; i < groups.size(); i++)
+            {
+                futures.add(EXECUTOR_SERVICE.submit(new FlushTask(tx, groups.get(i))));
+            }
+            Throwable failure = null;
+            try
+            {
+                executeGroup(groups.get(0));
+            }
+            catch (Throwable t)
+            {
+                failure = t;
+            }
+            // every group must be done before the transaction can go on, even if one of them failed
+            for (int i = 0; i < futures.size(); i++)
+            {
+                try
+                {
+                    futures.get(i).get();
+                }
+                catch (ExecutionException e)
+                {
+                    if (failure == null)
+                    {
+                        failure = e.getCause();
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    if (failure == null)
+                    {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null)
+            {
+                if (failure instanceof RuntimeException)
+                {
+                    throw (RuntimeException) failure;
+                }
+                if (failure instanceof Error)
+                {
+                    throw (Error) failure;
+                }
+                throw new MithraDatabaseException("could not execute buffered operations", failure);
+            }
+        }
+        finally
+        {
+            tx.setInParallelExecution(false);
+            MithraLocalTransaction.clearParallelExecutionState();
+        }
+    }
+
+    protected static Future<Void> commitInBackground(final XAResource resource, final Xid xid)
+    {
+        return EXECUTOR_SERVICE.submit(new Callable<Void>()
+        {
+            @Override
+            public Void call() throws Exception
+            {
+                backgroundTasks.increment();
+                resource.commit(xid, false);
+                return null;
+            }
+        });
+    }
+
+    private static void executeGroup(List<TxOperationsForIndependentClass> group)
+    {
+        for (int i = 0; i < group.size(); i++)
+        {
+            group.get(i).executeBufferedOperations();
+        }
+    }
+
+    private static class FlushTask implements Callable<Void>
+    {
+        private final MithraLocalTransaction tx;
+        private final List<TxOperationsForIndependentClass> group;
+
+        private FlushTask(MithraLocalTransaction tx, List<TxOperationsForIndependentClass> group)
+        {
+            this.tx = tx;
+            this.group = group;
+        }
+
+        @Override
+        public Void call() throws Exception
+        {
+            backgroundTasks.increment();
+            MithraManager mithraManager = MithraManagerProvider.getMithraManager();
+            mithraManager.zBindTransactionToThread(this.tx);
+            this.tx.seedParallelExecutionState();
+            try
+            {
+                executeGroup(this.group);
+            }
+            finally
+            {
+                MithraLocalTransaction.clearParallelExecutionState();
+                mithraManager.zBindTransactionToThread(null);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Groups the classes with pending operations by connection manager. The first group is the one that runs on the
+     * committing thread; it holds the classes whose connection manager isn't known (for example remote classes).
+     */
+    private static class ConnectionManagerGrouper implements DoUntilProcedure
+    {
+        private final List<Object> connectionManagers = FastList.newList();
+        private final List<List<TxOperationsForIndependentClass>> groups = FastList.newList();
+
+        public boolean execute(Object object)
+        {
+            TxOperationsForIndependentClass ops = (TxOperationsForIndependentClass) object;
+            if (ops.hasPendingOperation())
+            {
+                Object connectionManager = null;
+                Object persister = ops.getPortal().getMithraObjectPersister();
+                if (persister instanceof MithraDatabaseObject)
+                {
+                    connectionManager = ((MithraDatabaseObject) persister).getConnectionManager();
+                }
+                this.getGroup(connectionManager).add(ops);
+            }
+            return false;
+        }
+
+        private List<TxOperationsForIndependentClass> getGroup(Object connectionManager)
+        {
+            if (connectionManager == null)
+            {
+                connectionManager = this;
+                if (this.connectionManagers.isEmpty() || this.connectionManagers.get(0) != this)
+                {
+                    this.connectionManagers.add(0, this);
+                    this.groups.add(0, FastList.<TxOperationsForIndependentClass>newList());
+                }
+            }
+            for (int i = 0; i < this.connectionManagers.size(); i++)
+            {
+                if (this.connectionManagers.get(i) == connectionManager)
+                {
+                    return this.groups.get(i);
+                }
+            }
+            List<TxOperationsForIndependentClass> group = FastList.newList();
+            this.connectionManagers.add(connectionManager);
+            this.groups.add(group);
+            return group;
+        }
+    }
+}
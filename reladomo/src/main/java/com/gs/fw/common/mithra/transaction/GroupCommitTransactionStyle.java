@@ -0,0 +1,53 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.transaction;
+
+/**
+ * A transaction style that commits concurrent transactional commands together. Commands executed with the same
+ * instance of this style within a short window share one database transaction, so the commit round trip and the
+ * transaction callbacks are paid once per group instead of once per command.
+ * <p>
+ * Each command still sees its own result: if any command in a group fails, or the group fails to commit, the group
+ * is rolled back and every command is run again in its own transaction, with this style's retries. Commands must
+ * therefore be safe to retry, which is already the contract of {@link com.gs.fw.common.mithra.TransactionalCommand}.
+ * Commands are executed on the thread of whichever caller is committing the group, so they must not depend on
+ * thread local state.
+ * <p>
+ * Group commit only pays off for commands that write through the same connection manager; create one instance per
+ * connection manager (or per kind of command) and share it between the threads issuing those commands.
+ */
+public class GroupCommitTransactionStyle extends TransactionStyle
+{
+    private final GroupCommitter groupCommitter;
+
+    /**
+     * @param timeoutInSeconds the timeout of the group transaction and of each command run on its own
+     * @param retries number of times to retry a command that is run on its own
+     * @param windowInMicroseconds how long the first command of a group waits for others to join
+     * @param maxGroupSize the largest number of commands in one group; a full group is committed without waiting
+     */
+    public GroupCommitTransactionStyle(int timeoutInSeconds, int retries, int windowInMicroseconds, int maxGroupSize)
+    {
+        super(timeoutInSeconds, retries);
+        this.groupCommitter = new GroupCommitter(this, windowInMicroseconds, maxGroupSize);
+    }
+
+    public GroupCommitter getGroupCommitter()
+    {
+        return this.groupCommitter;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.transaction;
+
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the commands of a {@link GroupCommitTransactionStyle} and commits them in groups.
+ * <p>
+ * There are no extra threads: the first caller to arrive becomes the leader, waits for the window to pass (or the
+ * group to fill up), and executes the group. When it's done, it hands leadership to the oldest waiting caller, if
+ * any, and returns its own result. The other callers wait until their command has been committed or has failed.
+ */
+public class GroupCommitter
+{
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitter.class.getName());
+
+    private final TransactionStyle style;
+    private final long windowInNanoseconds;
+    private final int maxGroupSize;
+
+    private final List<Request> pending = FastList.newList();
+    private boolean leaderActive;
+
+    private final LongAdder groups = new LongAdder();
+    private final LongAdder groupedCommands = new LongAdder();
+    private final LongAdder failedGroups = new LongAdder();
+
+    protected GroupCommitter(TransactionStyle style, int windowInMicroseconds, int maxGroupSize)
+    {
+        this.style = style;
+        this.windowInNanoseconds = TimeUnit.MICROSECONDS.toNanos(windowInMicroseconds);
+        this.maxGroupSize = Math.max(1, maxGroupSize);
+    }
+
+    public <R> R execute(TransactionalCommand<R> command) throws MithraBusinessException
+    {
+        Request request = new Request(command);
+        boolean interrupted = false;
+        synchronized (this)
+        {
+            this.pending.add(request);
+            if (!this.leaderActive)
+            {
+                this.leaderActive = true;
+                request.leader = true;
+            }
+            else if (this.pending.size() >= this.maxGroupSize)
+            {
+                this.notifyAll();
+            }
+            while (!request.done && !request.leader)
+            {
+                try
+                {
+                    this.wait();
+                }
+                catch (InterruptedException e)
+                {
+                    // the command may already be running as part of a group, so we have to see it through
+                    interrupted = true;
+                }
+            }
+        }
+        if (!request.done)
+        {
+            interrupted |= this.lead();
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+        return (R) request.getResult();
+    }
+
+    /**
+     * @return the number of groups of two or more commands that were committed together
+     */
+    public long getGroupCount()
+    {
+        return this.groups.sum();
+    }
+
+    /**
+     * @return the number of commands that were committed as part of a group
+     */
+    public long getGroupedCommandCount()
+    {
+        return this.groupedCommands.sum();
+    }
+
+    /**
+     * @return the number of groups that were rolled back and run one command at a time
+     */
+    public long getFailedGroupCount()
+    {
+        return this.failedGroups.sum();
+    }
+
+    private boolean lead()
+    {
+        boolean interrupted = false;
+        List<Request> group;
+        synchronized (this)
+        {
+            long deadline = System.nanoTime() + this.windowInNanoseconds;
+            long remaining;
+            while (this.pending.size() < this.maxGroupSize && (remaining = deadline - System.nanoTime()) > 0)
+            {
+                try
+                {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+                catch (InterruptedException e)
+                {
+                    interrupted = true;
+                }
+            }
+            int size = Math.min(this.pending.size(), this.maxGroupSize);
+            group = FastList.newList(this.pending.subList(0, size));
+            this.pending.subList(0, size).clear();
+        }
+        try
+        {
+            this.executeGroup(group);
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                for (int i = 0; i < group.size(); i++)
+                {
+                    group.get(i).done = true;
+                }
+                if (this.pending.isEmpty())
+                {
+                    this.leaderActive = false;
+                }
+                else
+                {
+                    this.pending.get(0).leader = true;
+                }
+                this.notifyAll();
+            }
+        }
+        return interrupted;
+    }
+
+    private void executeGroup(List<Request> group)
+    {
+        if (group.size() > 1)
+        {
+            if (this.executeTogether(group))
+            {
+                this.groups.increment();
+                this.groupedCommands.add(group.size());
+                return;
+            }
+            this.failedGroups.increment();
+        }
+        MithraManager mithraManager = MithraManagerProvider.getMithraManager();
+        TransactionStyle individualStyle = new TransactionStyle(this.style.getTimeout(), this.style.getRetries(), this.style.isRetriableAfterTimeout());
+        for (int i = 0; i < group.size(); i++)
+        {
+            Request request = group.get(i);
+            try
+            {
+                request.result = mithraManager.executeTransactionalCommand(request.command, individualStyle);
+            }
+            catch (Throwable t)
+            {
+                request.failure = t;
+            }
+        }
+    }
+
+    private boolean executeTogether(List<Request> group)
+    {
+        MithraManager mithraManager = MithraManagerProvider.getMithraManager();
+        Object[] results = new Object[group.size()];
+        MithraTransaction tx = null;
+        try
+        {
+            tx = mithraManager.startOrContinueTransaction(this.style);
+            tx.setTransactionName("Group Commit: " + group.size() + " commands");
+            for (int i = 0; i < group.size(); i++)
+            {
+                results[i] = group.get(i).command.executeTransaction(tx);
+            }
+            tx.commit();
+        }
+        catch (Throwable t)
+        {
+            if (logger.isDebugEnabled())
+            {
+                logger.debug("group of " + group.size() + " commands rolled back; running them one at a time", t);
+            }
+            if (tx != null)
+            {
+                try
+                {
+                    tx.rollback();
+                }
+                catch (Throwable rollbackFailure)
+                {
+                    logger.warn("could not roll back group transaction", rollbackFailure);
+                }
+            }
+            return false;
+        }
+        for (int i = 0; i < group.size(); i++)
+        {
+            group.get(i).result = results[i];
+        }
+        return true;
+    }
+
+    private static class Request
+    {
+        private final TransactionalCommand command;
+        private Object result;
+        private Throwable failure;
+        private boolean leader;
+        private boolean done;
+
+        private Request(TransactionalCommand command)
+        {
+            this.command = command;
+        }
+
+        private Object getResult()
+        {
+            if (this.failure == null)
+            {
+                return this.result;
+            }
+            if (this.failure instanceof RuntimeException)
+            {
+                throw (RuntimeException) this.failure;
+            }
+            if (this.failure instanceof Error)
+            {
+                throw (Error) this.failure;
+            }
+            throw new MithraBusinessException(this.command.getClass().getName() + " transaction failed", this.failure);
+        }
+    }
+}
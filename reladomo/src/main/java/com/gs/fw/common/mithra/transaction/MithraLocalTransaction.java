@@ -78,6 +78,10 @@ public abstract class MithraLocalTransaction extends MithraTransaction
     private int expectedExecuteReturn;
     private int expectedExecuteBatchReturn;
 
+    // while buffered operations run on several threads, each thread keeps its own operation mode and expected returns
+    private static final ThreadLocal<ExecutionState> parallelExecutionState = new ThreadLocal<ExecutionState>();
+    private volatile boolean inParallelExecution;
+
     /**
      * Indicates whether this transaction was created from within Mithra proper.
      * Transactions started using JTA directly will set this to false.
@@ -700,13 +704,62 @@ public abstract class MithraLocalTransaction extends MithraTransaction
     @Override
     public OperationMode getOperationMode()
     {
+        if (this.inParallelExecution)
+        {
+            return getParallelExecutionState().operationMode;
+        }
         return this.operationMode;
     }
 
     @Override
     public void setWriteOperationMode(OperationMode mode)
     {
-        this.operationMode = mode;
+        if (this.inParallelExecution)
+        {
+            getParallelExecutionState().operationMode = mode;
+        }
+        else
+        {
+            this.operationMode = mode;
+        }
+    }
+
+    /**
+     * While set, the operation mode and expected returns are kept per thread, and the state shared by the threads
+     * (synchronizations, enlisted resources, notification events, the transaction local map) is locked.
+     * Each thread taking part must call {@link #seedParallelExecutionState()} first and
+     * {@link #clearParallelExecutionState()} when it's done.
+     */
+    protected void setInParallelExecution(boolean inParallelExecution)
+    {
+        this.inParallelExecution = inParallelExecution;
+        this.transactionLocalMap.setShared(inParallelExecution);
+    }
+
+    protected boolean isInParallelExecution()
+    {
+        return this.inParallelExecution;
+    }
+
+    protected void seedParallelExecutionState()
+    {
+        parallelExecutionState.set(new ExecutionState(this.operationMode, this.expectedExecuteReturn, this.expectedExecuteBatchReturn));
+    }
+
+    protected static void clearParallelExecutionState()
+    {
+        parallelExecutionState.remove();
+    }
+
+    private ExecutionState getParallelExecutionState()
+    {
+        ExecutionState state = parallelExecutionState.get();
+        if (state == null)
+        {
+            this.seedParallelExecutionState();
+            state = parallelExecutionState.get();
+        }
+        return state;
     }
 
     @Override
@@ -784,22 +837,44 @@ public abstract class MithraLocalTransaction extends MithraTransaction
 
     public int getExpectedExecuteReturn()
     {
+        if (this.inParallelExecution)
+        {
+            return getParallelExecutionState().expectedExecuteReturn;
+        }
         return expectedExecuteReturn;
     }
 
     public void setExpectedExecuteReturn(int expectedExecuteReturn)
     {
-        this.expectedExecuteReturn = expectedExecuteReturn;
+        if (this.inParallelExecution)
+        {
+            getParallelExecutionState().expectedExecuteReturn = expectedExecuteReturn;
+        }
+        else
+        {
+            this.expectedExecuteReturn = expectedExecuteReturn;
+        }
     }
 
     public int getExpectedExecuteBatchReturn()
     {
+        if (this.inParallelExecution)
+        {
+            return getParallelExecutionState().expectedExecuteBatchReturn;
+        }
         return expectedExecuteBatchReturn;
     }
 
     public void setExpectedExecuteBatchReturn(int expectedExecuteBatchReturn)
     {
-        this.expectedExecuteBatchReturn = expectedExecuteBatchReturn;
+        if (this.inParallelExecution)
+        {
+            getParallelExecutionState().expectedExecuteBatchReturn = expectedExecuteBatchReturn;
+        }
+        else
+        {
+            this.expectedExecuteBatchReturn = expectedExecuteBatchReturn;
+        }
     }
 
     @Override
@@ -826,6 +901,18 @@ public abstract class MithraLocalTransaction extends MithraTransaction
 
     @Override
     public MithraPerformanceData getTransactionPerformanceDataFor(MithraObjectPortal mithraObjectPortal)
+    {
+        if (this.inParallelExecution)
+        {
+            synchronized (this)
+            {
+                return this.getOrCreatePerformanceData(mithraObjectPortal);
+            }
+        }
+        return this.getOrCreatePerformanceData(mithraObjectPortal);
+    }
+
+    private MithraPerformanceData getOrCreatePerformanceData(MithraObjectPortal mithraObjectPortal)
     {
         if(this.performanceDataByPortal == null)
         {
@@ -848,4 +935,18 @@ public abstract class MithraLocalTransaction extends MithraTransaction
     {
         return this.performanceDataByPortal;
     }
+
+    private static class ExecutionState
+    {
+        private OperationMode operationMode;
+        private int expectedExecuteReturn;
+        private int expectedExecuteBatchReturn;
+
+        private ExecutionState(OperationMode operationMode, int expectedExecuteReturn, int expectedExecuteBatchReturn)
+        {
+            this.operationMode = operationMode;
+            this.expectedExecuteReturn = expectedExecuteReturn;
+            this.expectedExecuteBatchReturn = expectedExecuteBatchReturn;
+        }
+    }
 }
@@ -48,6 +48,7 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
     private static final DoUntilProcedure independentRollback = new IndependentPortalRollback();
     private static final DoUntilProcedure executeOperationsProc = new ExecuteOperations();
     private static final DoUntilProcedure handleFailedOperationsProc = new HandleFailedOperationsProc();
+    private static final DoUntilProcedure prepareWriteBehindProc = new PrepareWriteBehindProc();
 
     private TxOperations dependentOperations = new TxOperations();
     private FullUniqueIndex independentOperations = new FullUniqueIndex(EXTRACTORS, 7);
@@ -308,6 +309,21 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
 
     @Override
     public void registerSynchronization(Synchronization synchronization)
+    {
+        if (this.isInParallelExecution())
+        {
+            synchronized (this)
+            {
+                this.addSynchronization(synchronization);
+            }
+        }
+        else
+        {
+            this.addSynchronization(synchronization);
+        }
+    }
+
+    private void addSynchronization(Synchronization synchronization)
     {
         if (this.synchronizations == null)
         {
@@ -685,6 +701,11 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
 
     @Override
     public void executeBufferedOperations() throws MithraDatabaseException
+    {
+        this.executeBufferedOperations(false);
+    }
+
+    private void executeBufferedOperations(boolean forCommit) throws MithraDatabaseException
     {
         if (!this.isExecuting)
         {
@@ -694,7 +715,14 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
             try
             {
                 this.dependentOperations.executeBufferedOperations();
-                this.independentOperations.forAll(executeOperationsProc);
+                if (forCommit && CommitPipeline.isEnabled() && this.independentOperations.size() > 1)
+                {
+                    CommitPipeline.executeIndependentOperations(this, this.independentOperations);
+                }
+                else
+                {
+                    this.independentOperations.forAll(executeOperationsProc);
+                }
                 success = true;
             }
             finally
@@ -721,6 +749,7 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
     {
         if (asyncRollback) return;
         this.executeBufferedOperations();
+        this.independentOperations.forAll(prepareWriteBehindProc);
         if (this.synchronizations != null)
         {
             for(int i=0; i < this.synchronizations.size(); i++)
@@ -734,6 +763,21 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
 
     @Override
     public void enlistResource(XAResource resource) throws SystemException, RollbackException
+    {
+        if (this.isInParallelExecution())
+        {
+            synchronized (this)
+            {
+                this.enlistResourceOnce(resource);
+            }
+        }
+        else
+        {
+            this.enlistResourceOnce(resource);
+        }
+    }
+
+    private void enlistResourceOnce(XAResource resource) throws SystemException, RollbackException
     {
         if (this.enlistedResources.contains(resource)) return;
         if (this.getJtaTransaction().enlistResource(resource))
@@ -825,7 +869,8 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
         }
 
         this.txStatus = MITHRA_STATUS_COMMITTING;
-        this.executeBufferedOperations();
+        this.executeBufferedOperations(true);
+        this.independentOperations.forAll(prepareWriteBehindProc);
 
         notifyBeforeCommitLifeCycleListeners();
 
@@ -975,6 +1020,21 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
 
     @Override
     public void addMithraNotificationEvent(String databaseIdentifier, MithraNotificationEvent notificationEvent)
+    {
+        if (this.isInParallelExecution())
+        {
+            synchronized (this)
+            {
+                this.addNotificationEvent(databaseIdentifier, notificationEvent);
+            }
+        }
+        else
+        {
+            this.addNotificationEvent(databaseIdentifier, notificationEvent);
+        }
+    }
+
+    private void addNotificationEvent(String databaseIdentifier, MithraNotificationEvent notificationEvent)
     {
         List<MithraNotificationEvent> notificationEventList = this.notificationEvents.get(databaseIdentifier);
         if (notificationEventList == null)
@@ -1061,6 +1121,15 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
         }
     }
 
+    private static class PrepareWriteBehindProc implements DoUntilProcedure
+    {
+        public boolean execute(Object object)
+        {
+            ((TxOperationsForIndependentClass)object).prepareWriteBehind();
+            return false;
+        }
+    }
+
     private static class HandleFailedOperationsProc implements DoUntilProcedure
     {
         public boolean execute(Object object)
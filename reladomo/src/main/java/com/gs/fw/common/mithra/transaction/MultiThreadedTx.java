@@ -18,6 +18,8 @@
 package com.gs.fw.common.mithra.transaction;
 
 import com.gs.fw.common.mithra.util.MithraProcessInfo;
+import com.gs.reladomo.metrics.ReladomoMetricType;
+import com.gs.reladomo.metrics.ReladomoMetrics;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.list.mutable.FastList;
@@ -72,6 +74,8 @@ public class MultiThreadedTx implements Transaction
     private LocalXid xid;
     private AtomicReference<TxStatus> status = new AtomicReference<TxStatus>(ACTIVE);
     private Throwable rollbackCause;
+    private MutableList<Future<Void>> pendingCommits;
+    private SystemException pendingCommitCause;
     private MultiThreadedTm multiThreadedTm;
     private final long timeToDie;
 
@@ -244,6 +248,11 @@ public class MultiThreadedTx implements Transaction
 
     private void commitResources() throws SystemException
     {
+        if (CommitPipeline.isEnabled() && resourceManagers.size() > 1)
+        {
+            this.commitResourcesInBackground();
+            return;
+        }
         SystemException cause = null;
         boolean rollbackInstead = false;
         MutableList<Future<Void>> futures = Lists.fixedSize.of();
@@ -302,8 +311,88 @@ public class MultiThreadedTx implements Transaction
         }
     }
 
+    /**
+     * Commits the first resource, which decides the outcome, and then starts the commit of the other resources without
+     * waiting for them. The cache commit in afterCompletion runs while they finish; see {@link #completePendingCommits()}.
+     */
+    private void commitResourcesInBackground() throws SystemException
+    {
+        TxGroup decidingBranch = resourceManagers.get(0);
+        try
+        {
+            MutableList<Future<Void>> futures = decidingBranch.commit(true, Lists.fixedSize.<Future<Void>>of());
+            for (int i = 0; i < futures.size(); i++)
+            {
+                futures.get(i).get();
+            }
+        }
+        catch (Throwable t)
+        {
+            logger.error("Unexpected exception committing " + decidingBranch.getResource() + "; rolling back instead", t);
+            SystemException cause = new SystemException("Unexpected exception committing " + decidingBranch.getResource());
+            cause.initCause(t);
+            this.rollbackCause = cause;
+            this.status.set(ROLLING_BACK);
+            this.status.get().commitOrPossiblyRollback(this);
+            return;
+        }
+        MutableList<Future<Void>> futures = FastList.newList(resourceManagers.size() - 1);
+        for (int i = 1; i < resourceManagers.size(); i++)
+        {
+            TxGroup branch = resourceManagers.get(i);
+            try
+            {
+                futures.add(branch.commitInBackground());
+            }
+            catch (Throwable t)
+            {
+                logger.error("Unexpected exception committing " + branch.getResource() + "; continuing to commit", t);
+                if (this.pendingCommitCause == null)
+                {
+                    this.pendingCommitCause = new SystemException("Unexpected exception committing " + branch.getResource());
+                    this.pendingCommitCause.initCause(t);
+                }
+            }
+        }
+        this.pendingCommits = futures;
+        this.status.set(COMMITTED);
+    }
+
+    private void completePendingCommits() throws SystemException
+    {
+        MutableList<Future<Void>> futures = this.pendingCommits;
+        if (futures == null)
+        {
+            return;
+        }
+        this.pendingCommits = null;
+        SystemException cause = this.pendingCommitCause;
+        this.pendingCommitCause = null;
+        for (int i = 0; i < futures.size(); i++)
+        {
+            try
+            {
+                futures.get(i).get();
+            }
+            catch (Throwable t)
+            {
+                logger.error("Unexpected exception committing... this will likely require manual intervention to correct", t);
+                if (cause == null)
+                {
+                    cause = new SystemException("Unexpected exception committing ");
+                    cause.initCause(t);
+                }
+            }
+        }
+        if (cause != null)
+        {
+            throw cause;
+        }
+    }
+
     public void commit() throws HeuristicMixedException, HeuristicRollbackException, RollbackException, SecurityException, SystemException
     {
+        long startNanos = System.nanoTime();
         boolean performAfterCompletion = false;
         try
         {
@@ -323,13 +412,22 @@ public class MultiThreadedTx implements Transaction
         }
         finally
         {
-            if (performAfterCompletion)
+            try
             {
-                // possible statuses are now COMMITTED, ROLLED_BACK
-                this.status.get().afterCompletion(this);
-                multiThreadedTm.removeTransactionFromThread(this);
+                if (performAfterCompletion)
+                {
+                    // possible statuses are now COMMITTED, ROLLED_BACK
+                    this.status.get().afterCompletion(this);
+                    multiThreadedTm.removeTransactionFromThread(this);
+                }
+            }
+            finally
+            {
+                // the other resources must finish committing even if afterCompletion failed
+                this.completePendingCommits();
             }
         }
+        ReladomoMetrics.record(MultiThreadedTx.class.getName(), ReladomoMetricType.TRANSACTION_COMMIT, startNanos, this.resourceManagers.size());
         this.status.get().postCommitCheck(this);
     }
 
@@ -479,6 +577,15 @@ public class MultiThreadedTx implements Transaction
             return futures;
         }
 
+        public Future<Void> commitInBackground() throws XAException
+        {
+            if (this.futureXaResource != null)
+            {
+                return this.futureXaResource.commit(this.branchXid, false);
+            }
+            return CommitPipeline.commitInBackground(this.getResource(), this.branchXid);
+        }
+
         public Future<Integer> prepare() throws XAException
         {
             if (this.futureXaResource != null)
@@ -65,11 +65,21 @@ public class TransactionLocalMap
      */
     private int threshold; // Default to 0
 
+    /**
+     * Set while the transaction runs on several threads; access is only locked then.
+     */
+    private volatile boolean shared;
+
     private void setThreshold(int len)
     {
         threshold = len * 2 / 3;
     }
 
+    void setShared(boolean shared)
+    {
+        this.shared = shared;
+    }
+
     private static int nextIndex(int i, int len)
     {
         return ((i + 1 < len) ? i + 1 : 0);
@@ -100,6 +110,18 @@ public class TransactionLocalMap
      * @return the entry associated with key, or null if no such
      */
     public Object get(TransactionLocal key)
+    {
+        if (shared)
+        {
+            synchronized (this)
+            {
+                return getEntry(key);
+            }
+        }
+        return getEntry(key);
+    }
+
+    private Object getEntry(TransactionLocal key)
     {
         int i = key.hashCode & (table.length - 1);
         Entry e = table[i];
@@ -140,6 +162,21 @@ public class TransactionLocalMap
      * @param value the value to be set
      */
     public void put(TransactionLocal key, Object value)
+    {
+        if (shared)
+        {
+            synchronized (this)
+            {
+                putEntry(key, value);
+            }
+        }
+        else
+        {
+            putEntry(key, value);
+        }
+    }
+
+    private void putEntry(TransactionLocal key, Object value)
     {
 
         // We don't use a fast path as with get() because it is at
@@ -173,6 +210,21 @@ public class TransactionLocalMap
      * @param key to remove
      */
     public void remove(TransactionLocal key)
+    {
+        if (shared)
+        {
+            synchronized (this)
+            {
+                removeEntry(key);
+            }
+        }
+        else
+        {
+            removeEntry(key);
+        }
+    }
+
+    private void removeEntry(TransactionLocal key)
     {
         Entry[] tab = table;
         int len = tab.length;
@@ -18,6 +18,7 @@
 
 package com.gs.fw.common.mithra.transaction;
 
+import com.gs.fw.common.mithra.MithraBusinessException;
 import com.gs.fw.common.mithra.MithraDatabaseException;
 import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.MithraTransactionException;
@@ -48,14 +49,32 @@ public class TxOperationsForIndependentClass extends AbstractTxOperations
     private boolean updatePerClassCount;
     private boolean hasDelete;
     private boolean isFailed = false;
+    private WriteBehindWriter.Buffer writeBehindBuffer;
 
     public TxOperationsForIndependentClass(MithraObjectPortal portal)
     {
         this.portal = portal;
     }
 
+    /**
+     * Journals the write behind operations of the transaction, so a journal failure fails the transaction instead of
+     * losing operations that are already in the cache.
+     */
+    public void prepareWriteBehind() throws MithraTransactionException
+    {
+        if (this.writeBehindBuffer != null)
+        {
+            this.writeBehindBuffer.prepare();
+        }
+    }
+
     public void synchronizedHandleCacheCommit() throws MithraTransactionException
     {
+        if (this.writeBehindBuffer != null)
+        {
+            this.writeBehindBuffer.commit();
+            this.writeBehindBuffer = null;
+        }
         if (updateCountHolders != null)
         {
             updateCountHolders.forEach(commitProc);
@@ -68,6 +87,11 @@ public class TxOperationsForIndependentClass extends AbstractTxOperations
 
     public void synchronizedHandleCacheRollback() throws MithraTransactionException
     {
+        if (this.writeBehindBuffer != null)
+        {
+            this.writeBehindBuffer.rollback();
+            this.writeBehindBuffer = null;
+        }
         if (updateCountHolders != null)
         {
             updateCountHolders.forEach(rollbackProc);
@@ -175,6 +199,7 @@ public class TxOperationsForIndependentClass extends AbstractTxOperations
 
     public void deleteUsingOperation(Operation op) throws MithraDatabaseException
     {
+        this.checkNotWriteBehind("deleteAll");
         this.operations.add(new DeleteUsingOperationOperation(op));
         updatePerClassCount = true;
         updateCountHolders = null;
@@ -183,6 +208,7 @@ public class TxOperationsForIndependentClass extends AbstractTxOperations
 
     public int deleteBatchUsingOperation(Operation op, int batchSize)
     {
+        this.checkNotWriteBehind("deleteAllInBatches");
         this.executeBufferedOperations();
         updatePerClassCount = true;
         updateCountHolders = null;
@@ -192,6 +218,7 @@ public class TxOperationsForIndependentClass extends AbstractTxOperations
 
     public void purgeUsingOperation(Operation op) throws MithraDatabaseException
     {
+        this.checkNotWriteBehind("purgeAll");
         this.operations.add(new PurgeUsingOperationOperation(op));
         updatePerClassCount = true;
         updateCountHolders = null;
@@ -216,19 +243,40 @@ public class TxOperationsForIndependentClass extends AbstractTxOperations
         if (this.operations.size() > 0)
         {
             combineAll();
+            WriteBehindWriter writeBehindWriter = this.portal.getWriteBehindWriter();
             for (int i = 0; i < this.operations.size(); i++)
             {
                 TransactionOperation op = (TransactionOperation) this.operations.get(i);
-                op.execute();
+                if (writeBehindWriter == null)
+                {
+                    op.execute();
+                }
+                else
+                {
+                    if (this.writeBehindBuffer == null)
+                    {
+                        this.writeBehindBuffer = writeBehindWriter.createBuffer();
+                    }
+                    this.writeBehindBuffer.add(op);
+                }
             }
             this.operations.clear();
             this.hasDelete = false;
         }
     }
 
+    private void checkNotWriteBehind(String methodName)
+    {
+        if (this.portal.getWriteBehindWriter() != null)
+        {
+            throw new MithraBusinessException(methodName + " is not supported for write behind class " + this.portal.getBusinessClassName());
+        }
+    }
+
     private void clear()
     {
         this.operations.clear();
+        this.writeBehindBuffer = null;
         this.hasDelete = false;
         updatePerClassCount = false;
         updateCountHolders = null;
@@ -239,6 +287,11 @@ public class TxOperationsForIndependentClass extends AbstractTxOperations
         return logger;
     }
 
+    public MithraObjectPortal getPortal()
+    {
+        return this.portal;
+    }
+
     public boolean hasPendingOperation()
     {
         return this.operations.size() > 0;
@@ -0,0 +1,244 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.transaction;
+
+import com.gs.fw.common.mithra.MithraBusinessException;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * An append only file of committed write behind transactions. Each record is its length, a CRC32 of its payload and
+ * the payload. A record is forced to disk before the append returns. Reading stops at the first incomplete or
+ * corrupt record, which is what a crash in the middle of an append leaves behind.
+ * <p>
+ * The journal is locked for as long as it's open, so two JVMs can't use the same journal directory for a class.
+ * The lock is on a separate file, because {@link #rewrite(List)} replaces the journal file.
+ * <p>
+ * Not thread safe; {@link WriteBehindWriter} guards all access.
+ */
+class WriteBehindJournal
+{
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindJournal.class);
+
+    private static final String FILE_SUFFIX = ".wbj";
+    private static final String LOCK_SUFFIX = ".lock";
+    private static final int HEADER_SIZE = 8;
+
+    private final File file;
+    private final FileChannel lockChannel;
+    private FileChannel channel;
+
+    WriteBehindJournal(File directory, String businessClassName)
+    {
+        if (!directory.isDirectory() && !directory.mkdirs())
+        {
+            throw new MithraBusinessException("Could not create write behind journal directory " + directory);
+        }
+        this.file = new File(directory, businessClassName + FILE_SUFFIX);
+        this.lockChannel = lock(new File(directory, businessClassName + FILE_SUFFIX + LOCK_SUFFIX));
+        try
+        {
+            this.channel = new RandomAccessFile(this.file, "rw").getChannel();
+        }
+        catch (IOException e)
+        {
+            closeQuietly(this.lockChannel);
+            throw new MithraBusinessException("Could not open write behind journal " + this.file, e);
+        }
+    }
+
+    private static FileChannel lock(File lockFile)
+    {
+        FileChannel lockChannel;
+        try
+        {
+            lockChannel = new RandomAccessFile(lockFile, "rw").getChannel();
+        }
+        catch (IOException e)
+        {
+            throw new MithraBusinessException("Could not open write behind journal lock " + lockFile, e);
+        }
+        FileLock lock = null;
+        try
+        {
+            lock = lockChannel.tryLock();
+        }
+        catch (OverlappingFileLockException e)
+        {
+            // already locked by this JVM
+        }
+        catch (IOException e)
+        {
+            closeQuietly(lockChannel);
+            throw new MithraBusinessException("Could not lock write behind journal " + lockFile, e);
+        }
+        if (lock == null)
+        {
+            closeQuietly(lockChannel);
+            throw new MithraBusinessException("Write behind journal " + lockFile + " is in use by another process or class configuration");
+        }
+        return lockChannel;
+    }
+
+    public File getFile()
+    {
+        return this.file;
+    }
+
+    public List<byte[]> readAll() throws IOException
+    {
+        List<byte[]> result = FastList.newList();
+        long size = this.channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (position + HEADER_SIZE <= size)
+        {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            int crc = header.getInt(4);
+            if (length < 0 || position + HEADER_SIZE + length > size)
+            {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + HEADER_SIZE);
+            if (crc(payload.array()) != crc)
+            {
+                break;
+            }
+            result.add(payload.array());
+            position += HEADER_SIZE + length;
+        }
+        if (position < size)
+        {
+            logger.warn("ignoring " + (size - position) + " bytes of incomplete data at the end of " + this.file);
+            this.channel.truncate(position);
+        }
+        this.channel.position(position);
+        return result;
+    }
+
+    public void append(byte[] payload) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt(crc(payload));
+        buffer.put(payload);
+        buffer.flip();
+        while (buffer.hasRemaining())
+        {
+            this.channel.write(buffer);
+        }
+        this.channel.force(false);
+    }
+
+    public long size() throws IOException
+    {
+        return this.channel.size();
+    }
+
+    public void truncate() throws IOException
+    {
+        this.channel.truncate(0);
+        this.channel.position(0);
+        this.channel.force(false);
+    }
+
+    /**
+     * Replaces the contents of the journal with the given records, so a journal that never empties doesn't grow
+     * forever. The new contents are written to a temporary file first, so a crash leaves either the old or the new
+     * journal in place.
+     */
+    public void rewrite(List<byte[]> payloads) throws IOException
+    {
+        File tmp = new File(this.file.getParentFile(), this.file.getName() + ".tmp");
+        FileChannel tmpChannel = new RandomAccessFile(tmp, "rw").getChannel();
+        FileChannel oldChannel = this.channel;
+        this.channel = tmpChannel;
+        try
+        {
+            tmpChannel.truncate(0);
+            for (int i = 0; i < payloads.size(); i++)
+            {
+                this.append(payloads.get(i));
+            }
+        }
+        catch (IOException e)
+        {
+            this.channel = oldChannel;
+            tmpChannel.close();
+            throw e;
+        }
+        oldChannel.close();
+        if (!tmp.renameTo(this.file))
+        {
+            tmpChannel.close();
+            this.channel = new RandomAccessFile(this.file, "rw").getChannel();
+            this.channel.position(this.channel.size());
+            throw new IOException("could not rename " + tmp + " to " + this.file);
+        }
+    }
+
+    public void close()
+    {
+        closeQuietly(this.channel);
+        // closing the channel releases the lock
+        closeQuietly(this.lockChannel);
+    }
+
+    private static void closeQuietly(FileChannel channel)
+    {
+        try
+        {
+            channel.close();
+        }
+        catch (IOException e)
+        {
+            logger.warn("could not close write behind journal", e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            if (this.channel.read(buffer, position + buffer.position()) < 0)
+            {
+                throw new IOException("unexpected end of " + this.file);
+            }
+        }
+    }
+
+    private static int crc(byte[] payload)
+    {
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,821 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.transaction;
+
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraObjectFactory;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.MithraTransactionException;
+import com.gs.fw.common.mithra.MithraTransactionalObject;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.cache.FullUniqueIndex;
+import com.gs.fw.common.mithra.cache.TransactionalUnderlyingObjectGetter;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.remote.MithraSerialUtil;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes the changes of one write behind class to the database in the background.
+ * <p>
+ * A transaction that changes a write behind class commits to the cache without running any SQL for that class.
+ * Its operations for the class are appended to a journal file and forced to disk before the cache commits, so a
+ * journal failure fails the transaction; a transaction that rolls back after that is marked as aborted in the
+ * journal. A background
+ * thread later replays them against the database, combining the operations of many transactions into batch
+ * inserts, batch updates and batch deletes. Each flush runs in its own database transaction. If a flush fails, it is
+ * retried with a growing delay until it succeeds; operations are never dropped.
+ * <p>
+ * The cache is the only up to date copy of the data, so write behind is limited to fully cached, non-dated,
+ * independent classes without optimistic locking. Queries that bypass the cache, cache reloads and other processes
+ * reading the table see the data as of the last flush.
+ * <p>
+ * When the JVM stops with operations still pending, they are replayed from the journal when the class is next
+ * initialized, before the cache is loaded. The replay checks each operation against the database, so operations that
+ * were written just before the stop are not applied twice.
+ */
+public class WriteBehindWriter
+{
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindWriter.class.getName());
+
+    private static final long DEFAULT_FLUSH_INTERVAL = Long.parseLong(System.getProperty("mithra.writeBehind.flushIntervalMillis", "100"));
+    private static final int DEFAULT_MAX_BATCH_SIZE = Integer.parseInt(System.getProperty("mithra.writeBehind.maxBatchSize", "1000"));
+    private static final long MAX_JOURNAL_SIZE = Long.parseLong(System.getProperty("mithra.writeBehind.maxJournalSize", "67108864"));
+    private static final long MAX_RETRY_DELAY = 30000;
+    private static final long SHUTDOWN_TIMEOUT = 60000;
+
+    private static final byte END = 0;
+    private static final byte INSERT = 1;
+    private static final byte UPDATE = 2;
+    private static final byte DELETE = 3;
+
+    // each journal record is a kind, the id of the transaction and, for a transaction, its operations
+    private static final byte JOURNAL_TRANSACTION = 1;
+    private static final byte JOURNAL_ABORT = 2;
+    private static final int JOURNAL_HEADER_SIZE = 9;
+
+    private final MithraObjectPortal portal;
+    private final WriteBehindJournal journal;
+    private final long flushIntervalMillis;
+    private final int maxBatchSize;
+
+    private final LinkedList<Record> pending = new LinkedList<Record>();
+    private final UnifiedSet<Record> prepared = new UnifiedSet<Record>();
+    private long nextRecordId;
+    private int pendingOperations;
+    private boolean shutdown;
+    private Thread writerThread;
+
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedOperations = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final LongAdder flushTime = new LongAdder();
+
+    public WriteBehindWriter(MithraObjectPortal portal, File journalDirectory)
+    {
+        this(portal, journalDirectory, DEFAULT_FLUSH_INTERVAL, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param flushIntervalMillis how long the writer waits for more transactions to join a flush
+     * @param maxBatchSize the number of operations after which a flush stops taking more transactions
+     */
+    public WriteBehindWriter(MithraObjectPortal portal, File journalDirectory, long flushIntervalMillis, int maxBatchSize)
+    {
+        checkSupported(portal);
+        this.portal = portal;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.journal = new WriteBehindJournal(journalDirectory, portal.getBusinessClassName());
+    }
+
+    private static void checkSupported(MithraObjectPortal portal)
+    {
+        String className = portal.getBusinessClassName();
+        RelatedFinder finder = portal.getFinder();
+        if (!portal.isTransactional() || !portal.isFullyCached())
+        {
+            throw new MithraBusinessException("write behind for " + className + " requires a fully cached transactional class");
+        }
+        if (finder.getAsOfAttributes() != null)
+        {
+            throw new MithraBusinessException("write behind is not supported for dated class " + className);
+        }
+        if (!portal.isIndependent())
+        {
+            throw new MithraBusinessException("write behind is not supported for " + className + " because its writes are ordered with other classes");
+        }
+        if (finder.getVersionAttribute() != null || portal.getTxParticipationMode().isOptimisticLocking())
+        {
+            throw new MithraBusinessException("write behind is not supported for " + className + " because it uses optimistic locking");
+        }
+    }
+
+    /**
+     * Replays the journal left by a previous run, then starts the background writer. Must be called before the cache
+     * is loaded.
+     */
+    public void start()
+    {
+        try
+        {
+            List<byte[]> payloads = this.journal.readAll();
+            if (!payloads.isEmpty())
+            {
+                UnifiedSet<Long> aborted = new UnifiedSet<Long>();
+                for (int i = 0; i < payloads.size(); i++)
+                {
+                    ByteBuffer header = ByteBuffer.wrap(payloads.get(i));
+                    if (header.get() == JOURNAL_ABORT)
+                    {
+                        aborted.add(header.getLong());
+                    }
+                }
+                List<Record> records = FastList.newList(payloads.size());
+                for (int i = 0; i < payloads.size(); i++)
+                {
+                    ByteBuffer header = ByteBuffer.wrap(payloads.get(i));
+                    if (header.get() == JOURNAL_TRANSACTION && !aborted.contains(header.getLong()))
+                    {
+                        records.add(new Record(payloads.get(i), System.currentTimeMillis(), 0));
+                    }
+                }
+                logger.info("replaying " + records.size() + " write behind transactions for " + this.portal.getBusinessClassName() + " from " + this.journal.getFile());
+                this.flush(records, true);
+                this.journal.truncate();
+            }
+        }
+        catch (IOException e)
+        {
+            throw new MithraBusinessException("could not read write behind journal " + this.journal.getFile(), e);
+        }
+        catch (ClassNotFoundException e)
+        {
+            throw new MithraBusinessException("could not read write behind journal " + this.journal.getFile(), e);
+        }
+        this.writerThread = new Thread("Mithra Write Behind " + this.portal.getBusinessClassName())
+        {
+            @Override
+            public void run()
+            {
+                runWriter();
+            }
+        };
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Stops the background writer after it has written what it can. Operations it could not write stay in the
+     * journal.
+     */
+    public void shutdown()
+    {
+        Thread thread;
+        synchronized (this)
+        {
+            if (this.shutdown)
+            {
+                return;
+            }
+            this.shutdown = true;
+            this.notifyAll();
+            thread = this.writerThread;
+        }
+        if (thread != null && thread != Thread.currentThread())
+        {
+            try
+            {
+                thread.join(SHUTDOWN_TIMEOUT);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this)
+        {
+            this.journal.close();
+        }
+    }
+
+    /**
+     * @return true if everything committed so far has been written to the database
+     */
+    public synchronized boolean waitUntilFlushed(long timeoutMillis) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (!this.pending.isEmpty() && remaining > 0)
+        {
+            this.wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return this.pending.isEmpty();
+    }
+
+    public MithraObjectPortal getPortal()
+    {
+        return this.portal;
+    }
+
+    /**
+     * @return the number of committed transactions that have not been written to the database yet
+     */
+    public synchronized int getPendingTransactionCount()
+    {
+        return this.pending.size();
+    }
+
+    /**
+     * @return the number of committed inserts, updates and deletes that have not been written to the database yet
+     */
+    public synchronized int getPendingOperationCount()
+    {
+        return this.pendingOperations;
+    }
+
+    /**
+     * @return how long ago the oldest transaction that hasn't been written to the database was committed, or 0
+     */
+    public synchronized long getLagInMilliseconds()
+    {
+        if (this.pending.isEmpty())
+        {
+            return 0;
+        }
+        return Math.max(0, System.currentTimeMillis() - this.pending.getFirst().commitTime);
+    }
+
+    public long getFlushCount()
+    {
+        return this.flushes.sum();
+    }
+
+    public long getFlushedOperationCount()
+    {
+        return this.flushedOperations.sum();
+    }
+
+    public long getFailedFlushCount()
+    {
+        return this.failedFlushes.sum();
+    }
+
+    public long getTotalFlushTimeInMilliseconds()
+    {
+        return this.flushTime.sum();
+    }
+
+    protected Buffer createBuffer()
+    {
+        return new Buffer();
+    }
+
+    private synchronized Record prepare(byte[] operations, int operationCount)
+    {
+        if (this.shutdown)
+        {
+            throw new MithraTransactionException("write behind for " + this.portal.getBusinessClassName() + " is shut down");
+        }
+        long id = this.nextRecordId++;
+        Record record = new Record(journalRecord(JOURNAL_TRANSACTION, id, operations), System.currentTimeMillis(), operationCount);
+        try
+        {
+            this.journal.append(record.payload);
+        }
+        catch (IOException e)
+        {
+            throw new MithraTransactionException("could not write to write behind journal " + this.journal.getFile(), e);
+        }
+        this.prepared.add(record);
+        return record;
+    }
+
+    private synchronized void commit(Record record)
+    {
+        this.prepared.remove(record);
+        if (this.shutdown)
+        {
+            logger.error("write behind for " + this.portal.getBusinessClassName() + " is shut down; " + record.operationCount
+                    + " committed operations will be written to the database from " + this.journal.getFile() + " on the next start");
+            return;
+        }
+        this.pending.add(new Record(record.payload, System.currentTimeMillis(), record.operationCount));
+        this.pendingOperations += record.operationCount;
+        this.notifyAll();
+    }
+
+    private synchronized void abort(Record record)
+    {
+        this.prepared.remove(record);
+        try
+        {
+            this.journal.append(journalRecord(JOURNAL_ABORT, ByteBuffer.wrap(record.payload).getLong(1), new byte[0]));
+        }
+        catch (IOException e)
+        {
+            logger.error("could not mark a rolled back transaction as aborted in " + this.journal.getFile() + "; its " + record.operationCount
+                    + " operations will be written to the database if the journal is replayed", e);
+        }
+    }
+
+    private static byte[] journalRecord(byte kind, long id, byte[] operations)
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(JOURNAL_HEADER_SIZE + operations.length);
+        buffer.put(kind);
+        buffer.putLong(id);
+        buffer.put(operations);
+        return buffer.array();
+    }
+
+    private void runWriter()
+    {
+        boolean checked = false;
+        long retryDelay = this.flushIntervalMillis;
+        while (true)
+        {
+            List<Record> batch;
+            synchronized (this)
+            {
+                try
+                {
+                    while (this.pending.isEmpty() && !this.shutdown)
+                    {
+                        this.wait();
+                    }
+                    if (this.pending.isEmpty())
+                    {
+                        return;
+                    }
+                    // give transactions committing right behind this one a chance to join the flush
+                    long deadline = System.currentTimeMillis() + this.flushIntervalMillis;
+                    long remaining;
+                    while (!this.shutdown && this.pendingOperations < this.maxBatchSize
+                            && (remaining = deadline - System.currentTimeMillis()) > 0)
+                    {
+                        this.wait(remaining);
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    logger.warn("write behind for " + this.portal.getBusinessClassName() + " interrupted", e);
+                    return;
+                }
+                batch = this.nextBatch();
+            }
+            try
+            {
+                long start = System.currentTimeMillis();
+                int operations = this.flush(batch, checked);
+                this.flushTime.add(System.currentTimeMillis() - start);
+                this.flushes.increment();
+                this.flushedOperations.add(operations);
+                checked = false;
+                retryDelay = this.flushIntervalMillis;
+                this.removeFlushed(batch);
+            }
+            catch (Throwable t)
+            {
+                this.failedFlushes.increment();
+                // the flush may have committed before failing, so the retry checks every operation against the database
+                checked = true;
+                retryDelay = Math.min(MAX_RETRY_DELAY, Math.max(retryDelay * 2, 100));
+                synchronized (this)
+                {
+                    if (this.shutdown)
+                    {
+                        logger.error("could not write " + this.pendingOperations + " operations of " + this.portal.getBusinessClassName()
+                                + " to the database before shutdown; they remain in " + this.journal.getFile(), t);
+                        return;
+                    }
+                    logger.error("could not write " + batch.size() + " transactions of " + this.portal.getBusinessClassName()
+                            + " to the database; retrying in " + retryDelay + " ms", t);
+                    try
+                    {
+                        this.wait(retryDelay);
+                    }
+                    catch (InterruptedException e)
+                    {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private List<Record> nextBatch()
+    {
+        List<Record> batch = FastList.newList();
+        int operations = 0;
+        for (Record record : this.pending)
+        {
+            if (!batch.isEmpty() && operations + record.operationCount > this.maxBatchSize)
+            {
+                break;
+            }
+            batch.add(record);
+            operations += record.operationCount;
+        }
+        return batch;
+    }
+
+    private synchronized void removeFlushed(List<Record> batch)
+    {
+        for (int i = 0; i < batch.size(); i++)
+        {
+            Record record = this.pending.removeFirst();
+            this.pendingOperations -= record.operationCount;
+        }
+        try
+        {
+            if (this.pending.isEmpty() && this.prepared.isEmpty())
+            {
+                this.journal.truncate();
+            }
+            else if (this.journal.size() > MAX_JOURNAL_SIZE)
+            {
+                List<byte[]> payloads = FastList.newList(this.pending.size() + this.prepared.size());
+                for (Record record : this.pending)
+                {
+                    payloads.add(record.payload);
+                }
+                for (Record record : this.prepared)
+                {
+                    payloads.add(record.payload);
+                }
+                this.journal.rewrite(payloads);
+            }
+        }
+        catch (IOException e)
+        {
+            logger.warn("could not trim " + this.journal.getFile(), e);
+        }
+        this.notifyAll();
+    }
+
+    /**
+     * Writes the records to the database in one transaction.
+     *
+     * @param checked when true, the operations are applied one at a time and only if they still apply: inserts of
+     * rows that exist and updates and deletes of rows that don't are skipped
+     * @return the number of operations in the records
+     */
+    private int flush(List<Record> records, final boolean checked) throws IOException, ClassNotFoundException
+    {
+        final List<Entry> entries = FastList.newList();
+        for (int i = 0; i < records.size(); i++)
+        {
+            this.decode(records.get(i).payload, entries);
+        }
+        if (entries.isEmpty())
+        {
+            return 0;
+        }
+        // the objects are created before the transaction starts, so they don't take part in it
+        final TxOperationsForIndependentClass operations = checked ? null : this.combine(entries);
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                tx.setTransactionName("Write behind for " + portal.getBusinessClassName());
+                if (checked)
+                {
+                    applyChecked(entries);
+                }
+                else
+                {
+                    for (int i = 0; i < operations.operations.size(); i++)
+                    {
+                        ((TransactionOperation) operations.operations.get(i)).execute();
+                    }
+                }
+                return null;
+            }
+        }, 0);
+        return entries.size();
+    }
+
+    private TxOperationsForIndependentClass combine(List<Entry> entries)
+    {
+        TxOperationsForIndependentClass operations = new TxOperationsForIndependentClass(this.portal);
+        Extractor[] pkAttributes = this.portal.getFinder().getPrimaryKeyAttributes();
+        FullUniqueIndex objectsByKey = new FullUniqueIndex(pkAttributes, entries.size());
+        objectsByKey.setUnderlyingObjectGetter(new TransactionalUnderlyingObjectGetter());
+        for (int i = 0; i < entries.size(); i++)
+        {
+            Entry entry = entries.get(i);
+            MithraTransactionalObject object = entry.object;
+            if (entry.kind == INSERT)
+            {
+                objectsByKey.put(object);
+                operations.addInsert(object, this.portal, 0);
+                continue;
+            }
+            MithraTransactionalObject existing = (MithraTransactionalObject) objectsByKey.get(entry.data, pkAttributes);
+            if (existing != null)
+            {
+                object = existing;
+            }
+            if (entry.kind == UPDATE)
+            {
+                if (existing == null)
+                {
+                    objectsByKey.put(object);
+                }
+                MithraDataObject data = object.zGetTxDataForRead();
+                for (int j = 0; j < entry.updates.size(); j++)
+                {
+                    AttributeUpdateWrapper update = entry.updates.get(j);
+                    update.setDataToUpdate(data);
+                    update.updateData(data);
+                    operations.addUpdate(object, update);
+                }
+            }
+            else
+            {
+                if (existing != null)
+                {
+                    objectsByKey.remove(existing);
+                }
+                operations.addDelete(object, this.portal);
+            }
+        }
+        operations.combineAll();
+        return operations;
+    }
+
+    private void applyChecked(List<Entry> entries)
+    {
+        MithraObjectPersister persister = this.portal.getMithraObjectPersister();
+        for (int i = 0; i < entries.size(); i++)
+        {
+            Entry entry = entries.get(i);
+            boolean exists = persister.refresh(entry.data, false) != null;
+            if (entry.kind == INSERT)
+            {
+                if (!exists)
+                {
+                    persister.insert(entry.data);
+                }
+            }
+            else if (exists)
+            {
+                if (entry.kind == UPDATE)
+                {
+                    for (int j = 0; j < entry.updates.size(); j++)
+                    {
+                        entry.updates.get(j).setDataToUpdate(entry.data);
+                    }
+                    persister.update(entry.object, entry.updates);
+                }
+                else
+                {
+                    persister.delete(entry.data);
+                }
+            }
+        }
+    }
+
+    private void decode(byte[] payload, List<Entry> entries) throws IOException, ClassNotFoundException
+    {
+        MithraObjectFactory factory = this.portal.getMithraObjectFactory();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload, JOURNAL_HEADER_SIZE, payload.length - JOURNAL_HEADER_SIZE));
+        byte kind;
+        while ((kind = in.readByte()) != END)
+        {
+            Class dataClass = MithraSerialUtil.getDataClassToInstantiate((String) in.readObject());
+            MithraDataObject data = MithraSerialUtil.instantiateData(dataClass);
+            List<AttributeUpdateWrapper> updates = null;
+            if (kind == INSERT)
+            {
+                data.zDeserializeFullData(in);
+            }
+            else
+            {
+                data.zDeserializePrimaryKey(in);
+                if (kind == UPDATE)
+                {
+                    int updateCount = in.readInt();
+                    updates = FastList.newList(updateCount);
+                    for (int i = 0; i < updateCount; i++)
+                    {
+                        AttributeUpdateWrapper update = (AttributeUpdateWrapper) MithraSerialUtil.safeInstantiate((String) in.readObject());
+                        update.setAttribute((Attribute) in.readObject());
+                        update.readParameter(in);
+                        updates.add(update);
+                    }
+                }
+            }
+            entries.add(new Entry(kind, data, (MithraTransactionalObject) factory.createObject(data), updates));
+        }
+    }
+
+    private static class Record
+    {
+        private final byte[] payload;
+        private final long commitTime;
+        private final int operationCount;
+
+        private Record(byte[] payload, long commitTime, int operationCount)
+        {
+            this.payload = payload;
+            this.commitTime = commitTime;
+            this.operationCount = operationCount;
+        }
+    }
+
+    private static class Entry
+    {
+        private final byte kind;
+        private final MithraDataObject data;
+        private final MithraTransactionalObject object;
+        private final List<AttributeUpdateWrapper> updates;
+
+        private Entry(byte kind, MithraDataObject data, MithraTransactionalObject object, List<AttributeUpdateWrapper> updates)
+        {
+            this.kind = kind;
+            this.data = data;
+            this.object = object;
+            this.updates = updates;
+        }
+    }
+
+    /**
+     * The operations one transaction has made on a write behind class. They are serialized as the transaction flushes
+     * its buffered operations, journaled when it prepares, and handed to the writer when the transaction commits.
+     */
+    protected class Buffer
+    {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final ObjectOutputStream out;
+        private int operationCount;
+        private Record record;
+
+        private Buffer()
+        {
+            try
+            {
+                this.out = new ObjectOutputStream(this.bytes);
+            }
+            catch (IOException e)
+            {
+                throw new MithraBusinessException("could not create write behind buffer", e);
+            }
+        }
+
+        public void add(TransactionOperation op)
+        {
+            try
+            {
+                if (op instanceof InsertOperation || op instanceof BatchInsertOperation)
+                {
+                    List objects = op.getAllObjects();
+                    for (int i = 0; i < objects.size(); i++)
+                    {
+                        this.writeInsert((MithraTransactionalObject) objects.get(i));
+                    }
+                }
+                else if (op instanceof UpdateOperation)
+                {
+                    this.writeUpdate(op.getMithraObject(), ((UpdateOperation) op).getUpdates());
+                }
+                else if (op instanceof BatchUpdateOperation)
+                {
+                    List<UpdateOperation> updateOperations = ((BatchUpdateOperation) op).getUpdateOperations();
+                    for (int i = 0; i < updateOperations.size(); i++)
+                    {
+                        UpdateOperation updateOperation = updateOperations.get(i);
+                        this.writeUpdate(updateOperation.getMithraObject(), updateOperation.getUpdates());
+                    }
+                }
+                else if (op instanceof MultiUpdateOperation)
+                {
+                    List objects = ((MultiUpdateOperation) op).getMithraObjects();
+                    for (int i = 0; i < objects.size(); i++)
+                    {
+                        this.writeUpdate((MithraTransactionalObject) objects.get(i), ((MultiUpdateOperation) op).getUpdates());
+                    }
+                }
+                else if (op instanceof DeleteOperation || op instanceof BatchDeleteOperation)
+                {
+                    List objects = op.getAllObjects();
+                    for (int i = 0; i < objects.size(); i++)
+                    {
+                        this.writeDelete((MithraTransactionalObject) objects.get(i));
+                    }
+                }
+                else
+                {
+                    throw new MithraBusinessException(op.getClass().getSimpleName() + " is not supported for write behind class " + portal.getBusinessClassName());
+                }
+            }
+            catch (IOException e)
+            {
+                throw new MithraBusinessException("could not buffer write behind operation for " + portal.getBusinessClassName(), e);
+            }
+        }
+
+        public void prepare()
+        {
+            if (this.record != null)
+            {
+                return;
+            }
+            try
+            {
+                this.out.writeByte(END);
+                this.out.close();
+            }
+            catch (IOException e)
+            {
+                throw new MithraBusinessException("could not buffer write behind operation for " + portal.getBusinessClassName(), e);
+            }
+            this.record = WriteBehindWriter.this.prepare(this.bytes.toByteArray(), this.operationCount);
+        }
+
+        public void commit()
+        {
+            this.prepare();
+            WriteBehindWriter.this.commit(this.record);
+        }
+
+        public void rollback()
+        {
+            if (this.record != null)
+            {
+                WriteBehindWriter.this.abort(this.record);
+                this.record = null;
+            }
+        }
+
+        private void writeInsert(MithraTransactionalObject object) throws IOException
+        {
+            MithraDataObject data = object.zGetTxDataForRead();
+            this.writeHeader(INSERT, data);
+            data.zSerializeFullData(this.out);
+        }
+
+        private void writeUpdate(MithraTransactionalObject object, List<AttributeUpdateWrapper> updates) throws IOException
+        {
+            MithraDataObject data = object.zGetTxDataForRead();
+            this.writeHeader(UPDATE, data);
+            data.zSerializePrimaryKey(this.out);
+            this.out.writeInt(updates.size());
+            for (int i = 0; i < updates.size(); i++)
+            {
+                AttributeUpdateWrapper update = updates.get(i);
+                this.out.writeObject(update.getClass().getName());
+                this.out.writeObject(update.getAttribute());
+                update.externalizeParameter(this.out);
+            }
+        }
+
+        private void writeDelete(MithraTransactionalObject object) throws IOException
+        {
+            MithraDataObject data = object.zGetTxDataForRead();
+            this.writeHeader(DELETE, data);
+            data.zSerializePrimaryKey(this.out);
+        }
+
+        private void writeHeader(byte kind, MithraDataObject data) throws IOException
+        {
+            this.out.writeByte(kind);
+            this.out.writeObject(MithraSerialUtil.getDataClassNameToSerialize(data));
+            this.operationCount++;
+        }
+    }
+}
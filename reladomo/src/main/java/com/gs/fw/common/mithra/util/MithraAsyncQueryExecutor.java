@@ -0,0 +1,148 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.util;
+
+import com.gs.fw.common.mithra.MithraDatabaseObject;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the database work behind the asynchronous list entry points (e.g. {@link com.gs.fw.common.mithra.MithraList#findAsync()}).
+ * Each connection manager gets its own bounded pool of daemon threads, so a burst of asynchronous queries can't
+ * ask for more connections than the pool size. Idle threads exit after a minute.
+ * <p/>
+ * The number of threads per connection manager is set with the mithra.async.threads system property (default 8).
+ * Work submitted from within a transaction runs on the calling thread, since transactions are bound to their thread.
+ */
+public class MithraAsyncQueryExecutor
+{
+    private static final Logger logger = LoggerFactory.getLogger(MithraAsyncQueryExecutor.class.getName());
+
+    public static final String MITHRA_ASYNC_THREADS = "mithra.async.threads";
+    private static final int DEFAULT_THREADS = 8;
+
+    private static final MithraAsyncQueryExecutor instance = new MithraAsyncQueryExecutor();
+
+    private final Object noConnectionManagerKey = new Object();
+    private final Map<Object, AutoShutdownThreadExecutor> executors = new IdentityHashMap<Object, AutoShutdownThreadExecutor>();
+    private final int threads;
+
+    public static MithraAsyncQueryExecutor getInstance()
+    {
+        return instance;
+    }
+
+    protected MithraAsyncQueryExecutor()
+    {
+        int configured = DEFAULT_THREADS;
+        try
+        {
+            configured = Integer.parseInt(System.getProperty(MITHRA_ASYNC_THREADS, "" + DEFAULT_THREADS));
+        }
+        catch (NumberFormatException e)
+        {
+            logger.warn("Could not parse " + MITHRA_ASYNC_THREADS + " system property with value " + System.getProperty(MITHRA_ASYNC_THREADS), e);
+        }
+        this.threads = Math.max(1, configured);
+    }
+
+    public int getThreads()
+    {
+        return threads;
+    }
+
+    /**
+     * Runs the callable on the I/O executor of the portal's connection manager. The callable runs on the calling
+     * thread instead if a transaction is in progress.
+     */
+    public <T> CompletableFuture<T> submit(MithraObjectPortal portal, final Callable<T> callable)
+    {
+        if (MithraManagerProvider.getMithraManager().isInTransaction())
+        {
+            return completeNow(callable);
+        }
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+        try
+        {
+            this.getExecutor(portal).execute(new Runnable()
+            {
+                public void run()
+                {
+                    complete(result, callable);
+                }
+            });
+        }
+        catch (RejectedExecutionException e)
+        {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Runs the callable on the calling thread and returns an already completed future.
+     */
+    public static <T> CompletableFuture<T> completeNow(Callable<T> callable)
+    {
+        CompletableFuture<T> result = new CompletableFuture<T>();
+        complete(result, callable);
+        return result;
+    }
+
+    private static <T> void complete(CompletableFuture<T> result, Callable<T> callable)
+    {
+        try
+        {
+            result.complete(callable.call());
+        }
+        catch (Throwable t)
+        {
+            result.completeExceptionally(t);
+        }
+    }
+
+    private AutoShutdownThreadExecutor getExecutor(MithraObjectPortal portal)
+    {
+        Object key = this.getConnectionManager(portal);
+        synchronized (this.executors)
+        {
+            AutoShutdownThreadExecutor executor = this.executors.get(key);
+            if (executor == null)
+            {
+                String name = key == this.noConnectionManagerKey ? "Mithra Async Query" : "Mithra Async Query " + key.getClass().getSimpleName();
+                executor = new AutoShutdownThreadExecutor(this.threads, name);
+                this.executors.put(key, executor);
+            }
+            return executor;
+        }
+    }
+
+    private Object getConnectionManager(MithraObjectPortal portal)
+    {
+        MithraDatabaseObject databaseObject = portal.getDatabaseObject();
+        Object connectionManager = databaseObject == null ? null : databaseObject.getConnectionManager();
+        return connectionManager == null ? this.noConnectionManagerKey : connectionManager;
+    }
+}
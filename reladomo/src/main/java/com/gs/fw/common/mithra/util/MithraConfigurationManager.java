@@ -17,6 +17,7 @@
 
 package com.gs.fw.common.mithra.util;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
@@ -45,6 +46,9 @@ import com.gs.fw.common.mithra.MithraRuntimeConfig;
 import com.gs.fw.common.mithra.SimulatedSequenceInitValues;
 import com.gs.fw.common.mithra.cache.offheap.MasterCacheService;
 import com.gs.fw.common.mithra.cache.offheap.MasterCacheUplink;
+import com.gs.fw.common.mithra.cache.offheap.MappedFileOffHeapMemoryAllocator;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapMemoryAllocator;
+import com.gs.fw.common.mithra.cache.offheap.UnsafeOffHeapMemoryAllocator;
 import com.gs.fw.common.mithra.connectionmanager.ConnectionManagerWrapper;
 import com.gs.fw.common.mithra.connectionmanager.IntSourceSchemaManager;
 import com.gs.fw.common.mithra.connectionmanager.IntSourceTablePartitionManager;
@@ -68,6 +72,7 @@ import com.gs.fw.common.mithra.notification.MithraReplicationNotificationManager
 import com.gs.fw.common.mithra.notification.replication.ReplicationNotificationConnectionManager;
 import com.gs.fw.common.mithra.remote.RemoteMithraObjectConfig;
 import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.WriteBehindWriter;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
@@ -448,6 +453,7 @@ public class MithraConfigurationManager
                 config.pureNotificationId = remoteMithraObjectConfigs[r].getPureNotificationId();
                 config.fullCache = localOverride != null && localOverride.getCacheType().isFull();
                 config.offHeapFullCache = config.fullCache && localOverride.isOffHeapFullCache();
+                config.offHeapFileDirectory = config.offHeapFullCache ? localOverride.getOffHeapFileDirectory() : null;
                 if (config.offHeapFullCache)
                 {
                     StringPool.getInstance().enableOffHeapSupport();
@@ -933,11 +939,16 @@ public class MithraConfigurationManager
             config.replicationSchemaName = replicationSchemaName;
             config.fullCache = mithraObjectConfigurationType.getCacheType().isFull();
             config.offHeapFullCache = config.fullCache && mithraObjectConfigurationType.isOffHeapFullCache();
-            if (config.offHeapFullCache)
+            config.offHeapFileDirectory = config.offHeapFullCache ? mithraObjectConfigurationType.getOffHeapFileDirectory() : null;
+            config.offHeapPartialCache = mithraObjectConfigurationType.getCacheType().isPartial() && mithraObjectConfigurationType.isOffHeapPartialCache();
+            config.offHeapPartialCacheSize = mithraObjectConfigurationType.getOffHeapPartialCacheSize();
+            if (config.offHeapFullCache || config.offHeapPartialCache)
             {
                 StringPool.getInstance().enableOffHeapSupport();
             }
             config.isParticipatingInTx = mithraObjectConfigurationType.getTxParticipation().isFull();
+            config.writeBehind = mithraObjectConfigurationType.isWriteBehind();
+            config.writeBehindJournalDirectory = mithraObjectConfigurationType.getWriteBehindJournalDirectory();
             config.loadCacheOnStartup = mithraObjectConfigurationType.isLoadCacheOnStartup();
             config.minQueriesToKeep = mithraObjectConfigurationType.getFinalMinQueriesToKeep(mithraRuntimeType, this.defaultMinQueriesToKeep);
             config.relationshipCacheSize = mithraObjectConfigurationType.getFinalRelationshipCacheSize(mithraRuntimeType, this.defaultRelationshipCacheSize);
@@ -1274,6 +1285,11 @@ public class MithraConfigurationManager
         protected boolean isDbReplicated;
         protected boolean fullCache;
         protected boolean offHeapFullCache;
+        protected boolean offHeapPartialCache;
+        protected int offHeapPartialCacheSize;
+        protected String offHeapFileDirectory;
+        protected boolean writeBehind;
+        protected String writeBehindJournalDirectory;
         protected boolean disableCache;
         protected boolean threeTierExport;
         protected String pureNotificationId;
@@ -1366,6 +1382,40 @@ public class MithraConfigurationManager
             return offHeapFullCache;
         }
 
+        public boolean isOffHeapPartialCache()
+        {
+            return offHeapPartialCache;
+        }
+
+        public int getOffHeapPartialCacheSize()
+        {
+            return offHeapPartialCacheSize;
+        }
+
+        public String getOffHeapFileDirectory()
+        {
+            return offHeapFileDirectory;
+        }
+
+        public boolean isWriteBehind()
+        {
+            return writeBehind;
+        }
+
+        public String getWriteBehindJournalDirectory()
+        {
+            return writeBehindJournalDirectory;
+        }
+
+        public OffHeapMemoryAllocator createOffHeapMemoryAllocator(String businessClassName)
+        {
+            if (offHeapFileDirectory == null)
+            {
+                return UnsafeOffHeapMemoryAllocator.INSTANCE;
+            }
+            return new MappedFileOffHeapMemoryAllocator(new File(offHeapFileDirectory), businessClassName);
+        }
+
         public boolean isThreeTierClient()
         {
             return false;
@@ -1494,6 +1544,10 @@ public class MithraConfigurationManager
                     ((MithraObjectDeserializer)databaseObject).instantiatePartialCache(this);
                 }
                 MithraObjectPortal mithraObjectPortal = relatedFinder.getMithraObjectPortal();
+                if (this.writeBehind)
+                {
+                    initializeWriteBehind(mithraObjectPortal, mithraInitializationErrors);
+                }
                 addToExportedConfigs(relatedFinder, MithraConfigurationManager.this);
                 initialized = true;
                 if (postInitializeHook != null)
@@ -1505,6 +1559,32 @@ public class MithraConfigurationManager
             return null;
         }
 
+        // runs before the cache is loaded, so the journal of a previous run is in the database by then
+        private void initializeWriteBehind(MithraObjectPortal portal, List<String> mithraInitializationErrors)
+        {
+            String directory = this.writeBehindJournalDirectory;
+            if (directory == null)
+            {
+                directory = System.getProperty("mithra.writeBehind.journalDirectory");
+            }
+            if (directory == null)
+            {
+                mithraInitializationErrors.add("Could not set up write behind for " + this.className
+                        + ": writeBehindJournalDirectory or the mithra.writeBehind.journalDirectory system property must be set");
+                return;
+            }
+            try
+            {
+                WriteBehindWriter writer = new WriteBehindWriter(portal, new File(directory));
+                writer.start();
+                portal.setWriteBehindWriter(writer);
+            }
+            catch (MithraBusinessException e)
+            {
+                mithraInitializationErrors.add("Could not set up write behind for " + this.className + ": " + e.getMessage());
+            }
+        }
+
         private void initializeReplicationNotification(List<String> mithraInitializationErrors, MithraDatabaseObject databaseObject)
         {
             if(this.isDbReplicated)
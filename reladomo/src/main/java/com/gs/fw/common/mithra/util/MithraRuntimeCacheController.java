@@ -38,14 +38,24 @@ import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 
 
@@ -60,6 +70,12 @@ public class MithraRuntimeCacheController
     public static final int POST_COMPRESS_BUFFER_SIZE = 8092;
     public static final int PRE_COMPRESS_BUFFER_SIZE = POST_COMPRESS_BUFFER_SIZE * 4;
 
+    public static final int CACHE_SNAPSHOT_MAGIC = 0x52534E50; // "RSNP"
+    public static final byte CACHE_SNAPSHOT_VERSION = 1;
+    // magic, version, snapshot time, payload length, payload crc32
+    private static final int CACHE_SNAPSHOT_HEADER_SIZE = 4 + 1 + 8 + 8 + 8;
+    private static final long SNAPSHOT_MAP_CHUNK_SIZE = 1 << 28;
+
     private ReladomoClassMetaData metaData;
     private Class finderClass;
     private RelatedFinder relatedFinder;
@@ -245,6 +261,94 @@ public class MithraRuntimeCacheController
         }
     }
 
+    /**
+     * Writes the full cache as a snapshot file: a fixed header (magic, version, snapshot time, payload length and
+     * crc32 of the payload) followed by the same payload archiveCache writes. The file is written next to the target
+     * and renamed into place, so a crash during the write leaves the previous snapshot intact.
+     *
+     * @param snapshotTime the processing time the cache content is current to. A warm restart refreshes from this time.
+     */
+    public void writeCacheSnapshot(File file, long snapshotTime) throws IOException
+    {
+        File tempFile = new File(file.getPath() + ".tmp");
+        RandomAccessFile randomAccessFile = new RandomAccessFile(tempFile, "rw");
+        try
+        {
+            FileChannel channel = randomAccessFile.getChannel();
+            channel.truncate(0);
+            channel.position(CACHE_SNAPSHOT_HEADER_SIZE);
+            CheckedOutputStream checkedOut = new CheckedOutputStream(Channels.newOutputStream(channel), new CRC32());
+            this.archiveCache(checkedOut);
+            long payloadLength = channel.position() - CACHE_SNAPSHOT_HEADER_SIZE;
+
+            ByteBuffer header = ByteBuffer.allocate(CACHE_SNAPSHOT_HEADER_SIZE);
+            header.putInt(CACHE_SNAPSHOT_MAGIC);
+            header.put(CACHE_SNAPSHOT_VERSION);
+            header.putLong(snapshotTime);
+            header.putLong(payloadLength);
+            header.putLong(checkedOut.getChecksum().getValue());
+            header.flip();
+            while (header.hasRemaining())
+            {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Replaces the cache content with a snapshot written by writeCacheSnapshot. The payload is memory mapped and its
+     * checksum is verified before anything is deserialized, so a damaged snapshot leaves the cache untouched.
+     *
+     * @return the snapshot time the file was written with
+     */
+    public long readCacheSnapshot(File file) throws IOException, ClassNotFoundException
+    {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try
+        {
+            FileChannel channel = randomAccessFile.getChannel();
+            if (channel.size() < CACHE_SNAPSHOT_HEADER_SIZE)
+            {
+                throw new MithraBusinessException("Cache snapshot "+file+" is too short");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, CACHE_SNAPSHOT_HEADER_SIZE);
+            if (header.getInt() != CACHE_SNAPSHOT_MAGIC)
+            {
+                throw new MithraBusinessException(file+" is not a cache snapshot");
+            }
+            byte version = header.get();
+            if (version > CACHE_SNAPSHOT_VERSION)
+            {
+                throw new MithraBusinessException("unknown cache snapshot version "+version+" in "+file);
+            }
+            long snapshotTime = header.getLong();
+            long payloadLength = header.getLong();
+            long checksum = header.getLong();
+            if (channel.size() != CACHE_SNAPSHOT_HEADER_SIZE + payloadLength)
+            {
+                throw new MithraBusinessException("Cache snapshot "+file+" is truncated. Expecting "+payloadLength+
+                        " bytes of data but found "+(channel.size() - CACHE_SNAPSHOT_HEADER_SIZE));
+            }
+            MappedInputStream in = new MappedInputStream(channel, CACHE_SNAPSHOT_HEADER_SIZE, payloadLength);
+            if (in.computeChecksum() != checksum)
+            {
+                throw new MithraBusinessException("Cache snapshot "+file+" is corrupt (checksum mismatch)");
+            }
+            this.readArchive(in, true, null);
+            return snapshotTime;
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+    }
+
     public void readCacheFromArchive(InputStream in) throws IOException, ClassNotFoundException
     {
         readArchive(in, true, null);
@@ -414,4 +518,71 @@ public class MithraRuntimeCacheController
         this.clearQueryCache();
         return stats;
     }
+
+    private static class MappedInputStream extends InputStream
+    {
+        private final MappedByteBuffer[] chunks;
+        private int currentChunk;
+
+        private MappedInputStream(FileChannel channel, long start, long length) throws IOException
+        {
+            int chunkCount = (int) ((length + SNAPSHOT_MAP_CHUNK_SIZE - 1) / SNAPSHOT_MAP_CHUNK_SIZE);
+            this.chunks = new MappedByteBuffer[chunkCount];
+            for(int i=0;i<chunkCount;i++)
+            {
+                long offset = i * SNAPSHOT_MAP_CHUNK_SIZE;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start + offset, Math.min(SNAPSHOT_MAP_CHUNK_SIZE, length - offset));
+            }
+        }
+
+        public long computeChecksum()
+        {
+            CRC32 crc = new CRC32();
+            for (MappedByteBuffer chunk : chunks)
+            {
+                crc.update(chunk.duplicate());
+            }
+            return crc.getValue();
+        }
+
+        private ByteBuffer current()
+        {
+            while (currentChunk < chunks.length && !chunks[currentChunk].hasRemaining())
+            {
+                currentChunk++;
+            }
+            return currentChunk < chunks.length ? chunks[currentChunk] : null;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            ByteBuffer buffer = current();
+            return buffer == null ? -1 : buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            if (len == 0)
+            {
+                return 0;
+            }
+            ByteBuffer buffer = current();
+            if (buffer == null)
+            {
+                return -1;
+            }
+            int toRead = Math.min(len, buffer.remaining());
+            buffer.get(b, off, toRead);
+            return toRead;
+        }
+
+        @Override
+        public int available() throws IOException
+        {
+            ByteBuffer buffer = current();
+            return buffer == null ? 0 : buffer.remaining();
+        }
+    }
 }
@@ -17,9 +17,14 @@ package com.gs.fw.common.mithra.util;
 
 import com.gs.fw.common.mithra.cache.*;
 import com.gs.fw.common.mithra.cache.offheap.MasterRetrieveStringResult;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapStringDictionary;
 
 public class StringPool implements ReferenceListener
 {
+    // keeps the characters of strings that are only used by off-heap caches off-heap as well
+    private static final boolean OFF_HEAP_DICTIONARY = Boolean.parseBoolean(System.getProperty("mithra.stringPool.offHeapDictionary", "false"));
+    private static final int HOT_STRING_CACHE_SIZE = Integer.getInteger("mithra.stringPool.hotStringCacheSize", 4096);
+
     private static final StringPool instance = new StringPool();
 
     private boolean isOffHeap = false;
@@ -42,7 +47,9 @@ public class StringPool implements ReferenceListener
     public synchronized void enableOffHeapSupport()
     {
         if (isOffHeap) return;
-        ConcurrentOffHeapStringIndex newWeakPool = new ConcurrentOffHeapStringIndex(20000);
+        ConcurrentOffHeapStringIndex newWeakPool = OFF_HEAP_DICTIONARY
+                ? new ConcurrentOffHeapStringIndex(20000, new OffHeapStringDictionary(HOT_STRING_CACHE_SIZE))
+                : new ConcurrentOffHeapStringIndex(20000);
         ((ConcurrentOnHeapStringIndex)stringIndex).copyTo(newWeakPool);
         this.stringIndex = newWeakPool;
         isOffHeap = true;
@@ -0,0 +1,123 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+package com.gs.reladomo.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a {@link LatencyHistogram} and a row count per owner (finder class name) and operation type.
+ * The histograms are created the first time an operation type is recorded for an owner; after that, recording
+ * is a hash lookup plus lock free increments.
+ */
+public class HistogramMetricsListener implements ReladomoMetricsListener
+{
+    private static final ReladomoMetricType[] TYPES = ReladomoMetricType.values();
+
+    private final ConcurrentHashMap<String, OwnerMetrics> metricsByOwner = new ConcurrentHashMap<String, OwnerMetrics>();
+
+    @Override
+    public void record(String owner, ReladomoMetricType type, long elapsedNanos, int rows)
+    {
+        OwnerMetrics ownerMetrics = metricsByOwner.get(owner);
+        if (ownerMetrics == null)
+        {
+            ownerMetrics = new OwnerMetrics();
+            OwnerMetrics existing = metricsByOwner.putIfAbsent(owner, ownerMetrics);
+            if (existing != null)
+            {
+                ownerMetrics = existing;
+            }
+        }
+        ownerMetrics.record(type, elapsedNanos, rows);
+    }
+
+    public Set<String> getOwners()
+    {
+        return metricsByOwner.keySet();
+    }
+
+    /**
+     * @return the latency histogram (in nanoseconds), or null if nothing was recorded for the owner and type.
+     */
+    public LatencyHistogram getHistogram(String owner, ReladomoMetricType type)
+    {
+        OwnerMetrics ownerMetrics = metricsByOwner.get(owner);
+        return ownerMetrics == null ? null : ownerMetrics.histograms.get(type.ordinal());
+    }
+
+    public long getRows(String owner, ReladomoMetricType type)
+    {
+        OwnerMetrics ownerMetrics = metricsByOwner.get(owner);
+        return ownerMetrics == null ? 0 : ownerMetrics.rows[type.ordinal()].sum();
+    }
+
+    public void reset()
+    {
+        metricsByOwner.clear();
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        for (String owner : metricsByOwner.keySet())
+        {
+            for (ReladomoMetricType type : TYPES)
+            {
+                LatencyHistogram histogram = getHistogram(owner, type);
+                if (histogram != null)
+                {
+                    builder.append(owner).append(' ').append(type).append(": ").append(histogram)
+                            .append(" rows=").append(getRows(owner, type)).append('\n');
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    private static class OwnerMetrics
+    {
+        private final AtomicReferenceArray<LatencyHistogram> histograms = new AtomicReferenceArray<LatencyHistogram>(TYPES.length);
+        private final LongAdder[] rows = new LongAdder[TYPES.length];
+
+        private OwnerMetrics()
+        {
+            for (int i = 0; i < rows.length; i++)
+            {
+                rows[i] = new LongAdder();
+            }
+        }
+
+        private void record(ReladomoMetricType type, long elapsedNanos, int rowCount)
+        {
+            int index = type.ordinal();
+            LatencyHistogram histogram = histograms.get(index);
+            if (histogram == null)
+            {
+                histograms.compareAndSet(index, null, new LatencyHistogram());
+                histogram = histograms.get(index);
+            }
+            histogram.record(elapsedNanos);
+            if (rowCount > 0)
+            {
+                rows[index].add(rowCount);
+            }
+        }
+    }
+}
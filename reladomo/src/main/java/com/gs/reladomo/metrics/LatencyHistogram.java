@@ -0,0 +1,150 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+package com.gs.reladomo.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent latency histogram with log-linear buckets, in the style of HdrHistogram: values below 64 are
+ * counted exactly and larger values fall into one of 32 buckets per power of two, so any reported value is within
+ * about 3% of the recorded one. Values of 2^40 nanoseconds (about 18 minutes) and more share the last bucket.
+ * <p>
+ * Recording is lock free and does not allocate. Reads are not atomic with respect to concurrent recording:
+ * a percentile computed while values are being recorded reflects some, but not necessarily all, of them.
+ */
+public class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_TRACKED_VALUE = (1L << MAX_EXPONENT) - 1;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public void record(long value)
+    {
+        if (value < 0)
+        {
+            value = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(value));
+        totalCount.increment();
+        totalValue.add(value);
+        long currentMax = maxValue.get();
+        while (value > currentMax && !maxValue.compareAndSet(currentMax, value))
+        {
+            currentMax = maxValue.get();
+        }
+    }
+
+    protected static int bucketIndex(long value)
+    {
+        if (value < LINEAR_LIMIT)
+        {
+            return (int) value;
+        }
+        if (value > MAX_TRACKED_VALUE)
+        {
+            value = MAX_TRACKED_VALUE;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    protected static long highestValueInBucket(int index)
+    {
+        if (index < LINEAR_LIMIT)
+        {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int shift = offset / SUB_BUCKET_COUNT + 1;
+        long subBucket = SUB_BUCKET_COUNT + offset % SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    public long getCount()
+    {
+        return totalCount.sum();
+    }
+
+    public long getMax()
+    {
+        return maxValue.get();
+    }
+
+    public double getMean()
+    {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : ((double) totalValue.sum()) / count;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the highest value equivalent (within the histogram's precision) to the value at the percentile,
+     * never more than the largest recorded value. Zero if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile)
+    {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            total += buckets.get(i);
+        }
+        if (total == 0)
+        {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            seen += buckets.get(i);
+            if (seen >= countAtPercentile)
+            {
+                return Math.min(highestValueInBucket(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    public void reset()
+    {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            buckets.set(i, 0);
+        }
+        totalCount.reset();
+        totalValue.reset();
+        maxValue.set(0);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "count=" + getCount() + " mean=" + (long) getMean() + " p50=" + getValueAtPercentile(50)
+                + " p99=" + getValueAtPercentile(99) + " p99.9=" + getValueAtPercentile(99.9) + " max=" + getMax();
+    }
+}
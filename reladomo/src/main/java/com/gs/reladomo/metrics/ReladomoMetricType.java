@@ -0,0 +1,49 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.reladomo.metrics;
+
+/**
+ * The operations reported to a {@link ReladomoMetricsListener}.
+ */
+public enum ReladomoMetricType
+{
+    /** a sequential database find, including cursors. rows is the number of rows read. */
+    FIND,
+    /** a find that was split across several threads. rows is the number of rows read. */
+    FIND_PARALLEL,
+    /** a refresh of a single object from the database. */
+    REFRESH,
+    INSERT,
+    BATCH_INSERT,
+    UPDATE,
+    BATCH_UPDATE,
+    MULTI_UPDATE,
+    DELETE,
+    BATCH_DELETE,
+    /** a single JDBC executeBatch call. rows is the number of statements in the batch. */
+    EXECUTE_BATCH,
+    /** the time spent waiting for a connection from the connection manager. */
+    CONNECTION_WAIT,
+    /** a find answered by an equivalent query in the query cache. */
+    QUERY_CACHE_HIT,
+    /** a find answered by filtering a broader query in the query cache. */
+    SUB_QUERY_CACHE_HIT,
+    /** a find resolved against the object cache indices. */
+    CACHE_FIND,
+    /** the commit of a transaction, across all its resources. rows is the number of resources. */
+    TRANSACTION_COMMIT
+}
@@ -0,0 +1,85 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+package com.gs.reladomo.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the process wide {@link ReladomoMetricsListener}. The listener can be set programmatically or by naming
+ * its class in the system property "reladomo.metrics.listener". With no listener, recording is a single volatile read.
+ */
+public class ReladomoMetrics
+{
+    private static final Logger logger = LoggerFactory.getLogger(ReladomoMetrics.class);
+
+    public static final String LISTENER_PROPERTY_NAME = "reladomo.metrics.listener";
+
+    private static volatile ReladomoMetricsListener listener = createListener();
+
+    private ReladomoMetrics()
+    {
+        // utility class
+    }
+
+    private static ReladomoMetricsListener createListener()
+    {
+        String listenerClassName = System.getProperty(LISTENER_PROPERTY_NAME);
+        if (listenerClassName == null)
+        {
+            return null;
+        }
+        try
+        {
+            return (ReladomoMetricsListener) Class.forName(listenerClassName).getDeclaredConstructor().newInstance();
+        }
+        catch (Exception e)
+        {
+            logger.error("Exception creating metrics listener " + listenerClassName + ". Metrics will not be recorded", e);
+            return null;
+        }
+    }
+
+    public static ReladomoMetricsListener getListener()
+    {
+        return listener;
+    }
+
+    /**
+     * @param metricsListener the listener to use from now on, or null to stop recording
+     */
+    public static void setListener(ReladomoMetricsListener metricsListener)
+    {
+        listener = metricsListener;
+    }
+
+    public static boolean isEnabled()
+    {
+        return listener != null;
+    }
+
+    /**
+     * Reports an operation that started at startNanos (from {@link System#nanoTime()}) and has just finished.
+     */
+    public static void record(String owner, ReladomoMetricType type, long startNanos, int rows)
+    {
+        ReladomoMetricsListener metricsListener = listener;
+        if (metricsListener != null)
+        {
+            metricsListener.record(owner, type, System.nanoTime() - startNanos, rows);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.reladomo.metrics;
+
+/**
+ * Receives latency and row counts for the database, cache and transaction operations performed by Reladomo.
+ * Register an implementation with {@link ReladomoMetrics#setListener(ReladomoMetricsListener)}.
+ * <p>
+ * Implementations are called from the thread performing the operation, so they must be thread safe and
+ * should neither block nor allocate. {@link HistogramMetricsListener} is a ready made implementation.
+ */
+public interface ReladomoMetricsListener
+{
+    /**
+     * @param owner the fully qualified name of the finder class the operation was performed for.
+     *              For {@link ReladomoMetricType#TRANSACTION_COMMIT} it is the name of the transaction class.
+     * @param type the operation
+     * @param elapsedNanos the time the operation took, in nanoseconds
+     * @param rows the number of rows (or objects) read or written, zero when not applicable
+     */
+    public void record(String owner, ReladomoMetricType type, long elapsedNanos, int rows);
+}
@@ -42,6 +42,7 @@ public class MithraMultiVmTestSuite extends TestSuite
         suite.addTest(new MultiVmTestSuite(TestClientPortalUsingDerby.class));
 //        suite.addTest(new MultiVmTestSuite(TestClientPortalTimeoutDuringDatabaseOperation.class)); no longer works with new H2. might have to be redone with derby
         suite.addTest(new MultiVmTestSuite(TestTransactionalClientPortal.class));
+        suite.addTest(new MultiVmTestSuite(TestRemoteCursorPrefetch.class));
         suite.addTest(new MultiVmTestSuite(TestEmbeddedValueObjectsRemote.class));
         suite.addTest(new MultiVmTestSuite(TestSerializationAcrossTimezones.class));
 //        suite.addTest(new MultiVmTestSuite(TestPureObjectsRemote.class));
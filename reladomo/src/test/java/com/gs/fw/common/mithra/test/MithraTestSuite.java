@@ -140,6 +140,9 @@ public class MithraTestSuite
         suite.addTestSuite(TestTransactionalAdhocFastList.class);
         suite.addTestSuite(TestForceRefresh.class);
         suite.addTestSuite(TestConcurrentTransactions.class);
+        suite.addTestSuite(TestCommitPipeline.class);
+        suite.addTestSuite(TestGroupCommit.class);
+        suite.addTestSuite(TestWriteBehind.class);
         suite.addTestSuite(TestInheritance.class);
         suite.addTestSuite(TestComplexPKUpdate.class);
         suite.addTestSuite(TestDetached.class);
@@ -149,6 +152,7 @@ public class MithraTestSuite
         suite.addTestSuite(TestUpdateListener.class);
         suite.addTestSuite(TestAdhocDeepFetch.class);
         suite.addTestSuite(TestNotificationDuringDeepFetch.class);
+        suite.addTestSuite(TestNotificationMessageEncoding.class);
         suite.addTestSuite(TestCrossDatabaseAdhocDeepFetch.class);
         suite.addTestSuite(TestTransactionalObjectAttributesBehavior.class);
 
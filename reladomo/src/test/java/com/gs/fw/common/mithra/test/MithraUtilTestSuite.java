@@ -24,6 +24,7 @@ import com.gs.fw.common.mithra.test.mithraTestResource.TestMithraRuntimeConfigVe
 import com.gs.fw.common.mithra.test.mithraTestResource.TestMithraTestResource;
 import com.gs.fw.common.mithra.test.mithraTestResource.TestMithraTestResourceBackwardCompatibility;
 import com.gs.fw.common.mithra.test.tinyproxy.ErrorConditionsTest;
+import com.gs.fw.common.mithra.test.tinyproxy.MultiplexedTransportTest;
 import com.gs.fw.common.mithra.test.tinyproxy.SimplePspServiceTest;
 import com.gs.fw.common.mithra.test.util.*;
 import junit.framework.Test;
@@ -47,6 +48,7 @@ public class MithraUtilTestSuite extends TestSuite
         suite.addTestSuite(TestFullUniqueIndex.class);
         suite.addTestSuite(TestNonUniqueIndex.class);
         suite.addTestSuite(TestNonUniqueIdentityIndex.class);
+        suite.addTestSuite(TestPrimitiveNonUniqueIdentityIndex.class);
         suite.addTestSuite(TestFullSemiUniqueDatedIndex.class);
         suite.addTestSuite(PartialDatedCacheTest.class);
         suite.addTestSuite(FullDatedCacheTest.class);
@@ -55,11 +57,14 @@ public class MithraUtilTestSuite extends TestSuite
         suite.addTestSuite(TestWildcardParser.class);
         suite.addTestSuite(TestThreadExecutor.class);
         suite.addTestSuite(TestImmutableTimestamp.class);
+        suite.addTestSuite(TestLatencyHistogram.class);
         suite.addTestSuite(TestAttributeMetaData.class);
         suite.addTestSuite(TestConcurrentDatedObjectIndex.class);
         suite.addTestSuite(TestConcurrentWeakPool.class);
+        suite.addTestSuite(TestMithraReferenceThread.class);
         suite.addTestSuite(TestConcurrentOnHeapStringIndex.class);
         suite.addTestSuite(TestConcurrentOffHeapStringIndex.class);
+        suite.addTestSuite(TestOffHeapStringDictionary.class);
         suite.addTestSuite(TestConcurrentQueryIndex.class);
 
         suite.addTestSuite(TestCache.class);
@@ -72,6 +77,8 @@ public class MithraUtilTestSuite extends TestSuite
         suite.addTestSuite(ExceptionSerializationTest.class);
 
         suite.addTestSuite(TestNotificationServer.class);
+        suite.addTestSuite(TestNioNotificationServer.class);
+        suite.addTestSuite(TestNotificationMessage.class);
         suite.addTestSuite(TestDualNotificationServers.class);
         suite.addTestSuite(SybaseDatabaseTypeTest.class);
         suite.addTestSuite(MilestoneRectangleTest.class);
@@ -82,6 +89,7 @@ public class MithraUtilTestSuite extends TestSuite
         //tinyproxy tests
         suite.addTestSuite(SimplePspServiceTest.class);
         suite.addTestSuite(ErrorConditionsTest.class);
+        suite.addTestSuite(MultiplexedTransportTest.class);
 
         return suite;
     }
@@ -20,7 +20,9 @@
 package com.gs.fw.common.mithra.test;
 
 import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
 import com.gs.fw.common.mithra.finder.NoOperation;
 import com.gs.fw.common.mithra.finder.Operation;
@@ -58,6 +60,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -561,6 +564,49 @@ public class TestBasicRetrieval
         assertEquals(1, p.getProductId());
     }
 
+    public void testFindAsync() throws Exception
+    {
+        Operation op = OrderFinder.userId().eq(1);
+        OrderList orders = new OrderList(op);
+        assertSame(orders, orders.findAsync().get());
+        assertTrue(orders.size() > 0);
+        for (int i = 0; i < orders.size(); i++)
+        {
+            assertEquals(1, orders.get(i).getUserId());
+        }
+
+        int count = MithraManagerProvider.getMithraManager().getDatabaseRetrieveCount();
+        CompletableFuture<MithraList<Order>> cached = new OrderList(op).findAsync();
+        assertTrue(cached.isDone());
+        assertEquals(orders.size(), cached.get().size());
+        assertEquals(count, MithraManagerProvider.getMithraManager().getDatabaseRetrieveCount());
+    }
+
+    public void testCountAsync() throws Exception
+    {
+        Operation op = OrderFinder.userId().eq(1);
+        OrderList orders = new OrderList(op);
+        orders.setBypassCache(true);
+        assertEquals(OrderFinder.findMany(op).size(), orders.countAsync().get().intValue());
+    }
+
+    public void testFindAsyncInTransaction() throws Exception
+    {
+        MithraTransaction tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+        try
+        {
+            OrderList orders = new OrderList(OrderFinder.userId().eq(1));
+            orders.setBypassCache(true);
+            CompletableFuture<MithraList<Order>> future = orders.findAsync();
+            assertTrue(future.isDone());
+            assertTrue(future.get().size() > 0);
+        }
+        finally
+        {
+            tx.rollback();
+        }
+    }
+
     public void testSamePkAndIndex()
     {
         Account account = AccountFinder.findByPrimaryKey("7410161001", "A");
@@ -21,6 +21,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import junit.framework.TestCase;
 
@@ -465,6 +466,166 @@ public class TestCache extends TestCase
 
     }
 
+    public void testReadWriteLockOptimisticStamp()
+    {
+        ReadWriteLock lock = new ReadWriteLock();
+        long stamp = lock.tryOptimisticRead();
+        assertTrue(stamp != 0);
+        assertTrue(lock.validate(stamp));
+
+        lock.acquireReadLock();
+        assertTrue(lock.validate(stamp));
+        lock.release();
+        assertTrue(lock.validate(stamp));
+
+        lock.acquireWriteLock();
+        assertEquals(0, lock.tryOptimisticRead());
+        assertFalse(lock.validate(stamp));
+        lock.release();
+        assertFalse(lock.validate(stamp));
+
+        stamp = lock.tryOptimisticRead();
+        lock.acquireReadLock();
+        lock.upgradeToWriteLock();
+        assertEquals(0, lock.tryOptimisticRead());
+        lock.release();
+        assertFalse(lock.validate(stamp));
+
+        stamp = lock.tryOptimisticRead();
+        assertTrue(stamp != 0);
+        lock.invalidateOptimisticReads();
+        assertFalse(lock.validate(stamp));
+    }
+
+    public void testFullCacheWithOptimisticReads() throws Exception
+    {
+        UserDatabaseObject udo = new UserDatabaseObject();
+        final FullNonDatedCache fullCache = new FullNonDatedCache(UserFinder.getPrimaryKeyAttributes(), udo);
+        fullCache.setOptimisticReads(true);
+        fullCache.addUniqueIndex(USER_ID_INDEX, new Attribute[] { UserFinder.userId() } );
+        fullCache.addIndex(USER_NAME_INDEX, new Attribute[] { UserFinder.name() } );
+
+        final int size = 2000;
+        for(int i=0;i<size;i++)
+        {
+            fullCache.getObjectFromData(createUserData(i, "name"+(i%10)));
+        }
+        final Attribute[] pkArray = UserFinder.getPrimaryKeyAttributes();
+        final int userIdIndexRef = fullCache.getIndexRef(UserFinder.userId()).indexReference;
+        final int userNameIndexRef = fullCache.getIndexRef(UserFinder.name()).indexReference;
+
+        final AtomicBoolean done = new AtomicBoolean();
+        final Throwable[] failure = new Throwable[1];
+        Thread writer = new Thread("optimistic read writer")
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    for(int round=0;round<20;round++)
+                    {
+                        for(int i=0;i<size;i+=2)
+                        {
+                            UserData userData = createUserData(i, "name"+(i%10));
+                            fullCache.remove((User) fullCache.getAsOne(userData, pkArray));
+                            fullCache.getObjectFromData(userData);
+                        }
+                    }
+                }
+                catch (Throwable t)
+                {
+                    failure[0] = t;
+                }
+                finally
+                {
+                    done.set(true);
+                }
+            }
+        };
+        Thread[] readers = new Thread[4];
+        for(int r=0;r<readers.length;r++)
+        {
+            readers[r] = new Thread("optimistic reader "+r)
+            {
+                @Override
+                public void run()
+                {
+                    User u = new User();
+                    try
+                    {
+                        while(!done.get())
+                        {
+                            for(int i=1;i<size;i+=2)
+                            {
+                                u.setId(i);
+                                assertEquals(i, ((User) fullCache.getAsOne(u, pkArray)).getId());
+                                assertEquals(1, fullCache.get(userIdIndexRef, "User"+i).size());
+                                List sameName = fullCache.get(userNameIndexRef, "name"+(i%10));
+                                for(int j=0;j<sameName.size();j++)
+                                {
+                                    assertEquals("name"+(i%10), ((User) sameName.get(j)).getName());
+                                }
+                            }
+                        }
+                    }
+                    catch (Throwable t)
+                    {
+                        failure[0] = t;
+                        done.set(true);
+                    }
+                }
+            };
+            readers[r].start();
+        }
+        writer.start();
+        writer.join();
+        for (Thread reader : readers)
+        {
+            reader.join();
+        }
+        if (failure[0] != null)
+        {
+            throw new RuntimeException("reader failed", failure[0]);
+        }
+        for(int i=0;i<size;i++)
+        {
+            assertEquals(1, fullCache.get(userIdIndexRef, "User"+i).size());
+        }
+        assertEquals(size/10, fullCache.get(userNameIndexRef, "name1").size());
+    }
+
+    public void testFullCacheGetAllWithFilter()
+    {
+        UserDatabaseObject udo = new UserDatabaseObject();
+        FullNonDatedCache fullCache = new FullNonDatedCache(UserFinder.getPrimaryKeyAttributes(), udo);
+        for(int i=0;i<10000;i++)
+        {
+            fullCache.getObjectFromData(createUserData(i, "name"+(i/4)));
+        }
+        Filter oddIds = new Filter()
+        {
+            public boolean matches(Object o)
+            {
+                return ((User) o).getId() % 2 == 1;
+            }
+        };
+        fullCache.setParallelScanThreshold(-1);
+        List sequential = fullCache.getAll(oddIds);
+        fullCache.setParallelScanThreshold(100);
+        List parallel = fullCache.getAll(oddIds);
+        assertEquals(5000, sequential.size());
+        assertEquals(5000, parallel.size());
+        boolean[] found = new boolean[10000];
+        for(int i=0;i<parallel.size();i++)
+        {
+            int id = ((User) parallel.get(i)).getId();
+            assertEquals(1, id % 2);
+            assertFalse(found[id]);
+            found[id] = true;
+        }
+    }
+
     public void testFullCacheRemoveAll()
     {
         UserDatabaseObject udo = new UserDatabaseObject();
@@ -0,0 +1,278 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.fw.common.mithra.DefaultJtaProvider;
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.test.domain.LewAccount;
+import com.gs.fw.common.mithra.test.domain.LewAccountFinder;
+import com.gs.fw.common.mithra.test.domain.OptimisticOrder;
+import com.gs.fw.common.mithra.test.domain.OptimisticOrderFinder;
+import com.gs.fw.common.mithra.transaction.CommitPipeline;
+import com.gs.fw.common.mithra.transaction.LocalTm;
+import com.gs.fw.common.mithra.transaction.MultiThreadedTm;
+
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+
+public class TestCommitPipeline extends MithraTestAbstract
+{
+    private static final Timestamp BUSINESS_DATE = Timestamp.valueOf("2012-01-05 23:59:00.0");
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        CommitPipeline.setEnabled(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        CommitPipeline.setEnabled(false);
+        super.tearDown();
+    }
+
+    public void testIndependentClassesAreFlushedPerConnectionManager()
+    {
+        long backgroundTasks = CommitPipeline.getBackgroundTaskCount();
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                for (int i = 0; i < 5; i++)
+                {
+                    createOrder(1000 + i).insert();
+                    createAccount(5000 + i).insert();
+                }
+                return null;
+            }
+        });
+        // the lew database is flushed on a pipeline thread while the default database is flushed on this one
+        assertTrue(CommitPipeline.getBackgroundTaskCount() > backgroundTasks);
+        for (int i = 0; i < 5; i++)
+        {
+            assertNotNull(OptimisticOrderFinder.findOneBypassCache(OptimisticOrderFinder.orderId().eq(1000 + i)));
+            assertNotNull(LewAccountFinder.findOneBypassCache(LewAccountFinder.accountId().eq(5000 + i).and(LewAccountFinder.businessDate().eq(BUSINESS_DATE))));
+            assertNotNull(OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(1000 + i)));
+        }
+    }
+
+    public void testFailedFlushRollsBackEveryConnectionManager()
+    {
+        try
+        {
+            MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+            {
+                public Object executeTransaction(MithraTransaction tx) throws Throwable
+                {
+                    createAccount(5100).insert();
+                    createOrder(1).insert(); // already in the database, but not in the cache
+                    return null;
+                }
+            }, 0);
+            fail("duplicate insert must fail");
+        }
+        catch (MithraBusinessException e)
+        {
+            // expected
+        }
+        assertNull(LewAccountFinder.findOneBypassCache(LewAccountFinder.accountId().eq(5100).and(LewAccountFinder.businessDate().eq(BUSINESS_DATE))));
+        assertEquals("First order", OptimisticOrderFinder.findOneBypassCache(OptimisticOrderFinder.orderId().eq(1)).getDescription());
+    }
+
+    public void testMultiThreadedTmCommitsSecondDatabaseInBackground()
+    {
+        MithraManager mithraManager = MithraManagerProvider.getMithraManager();
+        mithraManager.setJtaTransactionManagerProvider(new DefaultJtaProvider(new MultiThreadedTm()));
+        try
+        {
+            long backgroundTasks = CommitPipeline.getBackgroundTaskCount();
+            mithraManager.executeTransactionalCommand(new TransactionalCommand<Object>()
+            {
+                public Object executeTransaction(MithraTransaction tx) throws Throwable
+                {
+                    createOrder(1100).insert();
+                    createAccount(5200).insert();
+                    return null;
+                }
+            });
+            // one flush and one resource commit
+            assertTrue(CommitPipeline.getBackgroundTaskCount() >= backgroundTasks + 2);
+            assertNotNull(OptimisticOrderFinder.findOneBypassCache(OptimisticOrderFinder.orderId().eq(1100)));
+            assertNotNull(LewAccountFinder.findOneBypassCache(LewAccountFinder.accountId().eq(5200).and(LewAccountFinder.businessDate().eq(BUSINESS_DATE))));
+            assertNotNull(LewAccountFinder.findOne(LewAccountFinder.accountId().eq(5200).and(LewAccountFinder.businessDate().eq(BUSINESS_DATE))));
+        }
+        finally
+        {
+            mithraManager.setJtaTransactionManagerProvider(new DefaultJtaProvider(new LocalTm()));
+        }
+    }
+
+    public void testAfterCompletionRunsBetweenDecidingAndOtherResourceCommits() throws Exception
+    {
+        MultiThreadedTm tm = new MultiThreadedTm();
+        tm.begin();
+        Transaction tx = tm.getTransaction();
+        final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch afterCompletionCalled = new CountDownLatch(1);
+        RecordingXaResource deciding = new RecordingXaResource("first", events, null);
+        RecordingXaResource other = new RecordingXaResource("second", events, afterCompletionCalled);
+        assertTrue(tx.enlistResource(deciding));
+        assertTrue(tx.enlistResource(other));
+        tx.registerSynchronization(new Synchronization()
+        {
+            public void beforeCompletion()
+            {
+            }
+
+            public void afterCompletion(int status)
+            {
+                assertEquals(Status.STATUS_COMMITTED, status);
+                events.add("afterCompletion");
+                afterCompletionCalled.countDown();
+            }
+        });
+        assertTrue(tx.delistResource(deciding, XAResource.TMSUCCESS));
+        assertTrue(tx.delistResource(other, XAResource.TMSUCCESS));
+        tx.commit();
+        assertEquals(Arrays.asList("prepare second", "commit first", "afterCompletion", "commit second"), events);
+        assertEquals(Status.STATUS_NO_TRANSACTION, tm.getStatus());
+    }
+
+    private static OptimisticOrder createOrder(int orderId)
+    {
+        OptimisticOrder order = new OptimisticOrder();
+        order.setOrderId(orderId);
+        order.setOrderDate(BUSINESS_DATE);
+        order.setUserId(1);
+        order.setDescription("order " + orderId);
+        order.setState("In-Progress");
+        order.setTrackingId(String.valueOf(orderId));
+        return order;
+    }
+
+    private static LewAccount createAccount(int accountId)
+    {
+        LewAccount account = new LewAccount(BUSINESS_DATE);
+        account.setAccountId(accountId);
+        account.setAccountNumber(String.valueOf(accountId));
+        account.setAccountSubNumber("01");
+        account.setLegalEntity(1);
+        account.setProcCompanyId(0);
+        account.setTrialCode("");
+        account.setAccountType("CUS");
+        account.setAcctMnem(".");
+        account.setAcctExtLookup(".");
+        account.setAcctDesc("account " + accountId);
+        account.setCreateCode(103);
+        account.setChangeCode(0);
+        account.setChangeNumber("");
+        account.setAcctMstrSrc(2);
+        return account;
+    }
+
+    private static class RecordingXaResource implements XAResource
+    {
+        private final String name;
+        private final List<String> events;
+        private final CountDownLatch waitBeforeCommit;
+
+        private RecordingXaResource(String name, List<String> events, CountDownLatch waitBeforeCommit)
+        {
+            this.name = name;
+            this.events = events;
+            this.waitBeforeCommit = waitBeforeCommit;
+        }
+
+        public void commit(Xid xid, boolean onePhase) throws XAException
+        {
+            if (this.waitBeforeCommit != null)
+            {
+                try
+                {
+                    // without the pipeline, this times out and the events come out of order
+                    this.waitBeforeCommit.await(10, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    throw new XAException(XAException.XAER_RMERR);
+                }
+            }
+            this.events.add("commit " + this.name);
+        }
+
+        public void end(Xid xid, int flags) throws XAException
+        {
+        }
+
+        public void forget(Xid xid) throws XAException
+        {
+        }
+
+        public int getTransactionTimeout() throws XAException
+        {
+            return 0;
+        }
+
+        public boolean isSameRM(XAResource xaResource) throws XAException
+        {
+            return xaResource == this;
+        }
+
+        public int prepare(Xid xid) throws XAException
+        {
+            this.events.add("prepare " + this.name);
+            return XAResource.XA_OK;
+        }
+
+        public Xid[] recover(int flag) throws XAException
+        {
+            return null;
+        }
+
+        public void rollback(Xid xid) throws XAException
+        {
+            this.events.add("rollback " + this.name);
+        }
+
+        public boolean setTransactionTimeout(int seconds) throws XAException
+        {
+            return true;
+        }
+
+        public void start(Xid xid, int flags) throws XAException
+        {
+        }
+    }
+}
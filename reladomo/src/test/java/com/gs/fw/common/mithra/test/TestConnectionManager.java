@@ -19,14 +19,18 @@ package com.gs.fw.common.mithra.test;
 import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.connectionmanager.ConcurrentObjectPoolWithThreadAffinity;
 import com.gs.fw.common.mithra.connectionmanager.ObjectPoolWithThreadAffinity;
 import com.gs.fw.common.mithra.connectionmanager.PoolableObjectFactory;
+import com.gs.fw.common.mithra.connectionmanager.PreparedStatementCache;
 import com.gs.fw.common.mithra.test.domain.User;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TestConnectionManager extends MithraTestAbstract
 {
@@ -71,6 +75,25 @@ public class TestConnectionManager extends MithraTestAbstract
     }
 
 
+    public void testStatementPoolingEvictsLeastRecentlyUsed() throws Exception
+    {
+        Connection con = getConnection();
+        PreparedStatement[] statements = new PreparedStatement[6];
+        for (int i = 0; i < statements.length; i++)
+        {
+            statements[i] = con.prepareStatement("select * from USER_TBL where NAME = ? and OBJECTID > " + i);
+            statements[i].close();
+        }
+        long misses = PreparedStatementCache.getMissCount();
+        PreparedStatement newest = con.prepareStatement("select * from USER_TBL where NAME = ? and OBJECTID > 5");
+        assertSame(statements[5], newest);
+        newest.close();
+        PreparedStatement oldest = con.prepareStatement("select * from USER_TBL where NAME = ? and OBJECTID > 0");
+        assertNotSame(statements[0], oldest);
+        oldest.close();
+        assertEquals(misses + 1, PreparedStatementCache.getMissCount());
+        con.close();
+    }
 
     public void testSameTransactionNeedingMultipleConnections() throws Exception
     {
@@ -242,6 +265,148 @@ public class TestConnectionManager extends MithraTestAbstract
         borrowAndReturn(objectPool);
     }
 
+    public void testConcurrentObjectPoolWithBadFactory() throws Exception
+    {
+        ObjectPoolWithThreadAffinity objectPool = new ConcurrentObjectPoolWithThreadAffinity(new BadFactory(), 10,
+                1000, 5, 5, true, true, -1, -1, -1);
+        borrowAndReturn(objectPool);
+        borrowAndReturn(objectPool);
+        borrowAndReturn(objectPool);
+        borrowAndReturn(objectPool);
+    }
+
+    public void testConcurrentObjectPoolThreadAffinity() throws Exception
+    {
+        ConcurrentObjectPoolWithThreadAffinity objectPool = new ConcurrentObjectPoolWithThreadAffinity(new CountingFactory(), 4,
+                1000, 4, 0, true, false, -1, -1, -1, 4);
+        Object first = objectPool.borrowObject();
+        Object second = objectPool.borrowObject();
+        objectPool.returnObject(first);
+        objectPool.returnObject(second);
+        assertSame(second, objectPool.borrowObject());
+        assertSame(first, objectPool.borrowObject());
+        assertEquals(2, objectPool.getNumActive());
+        assertEquals(0, objectPool.getNumIdle());
+        assertEquals(2, objectPool.getCreatedCount());
+        assertEquals(1, objectPool.getThreadLocalBorrowCount());
+        assertEquals(0.5, objectPool.getUtilization(), 0.0);
+    }
+
+    public void testConcurrentObjectPoolTimeout() throws Exception
+    {
+        ConcurrentObjectPoolWithThreadAffinity objectPool = new ConcurrentObjectPoolWithThreadAffinity(new CountingFactory(), 1,
+                100, 1, 0, true, false, -1, -1, -1);
+        final Object first = objectPool.borrowObject();
+        try
+        {
+            objectPool.borrowObject();
+            fail("should have timed out");
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+        assertEquals(1, objectPool.getTimeoutCount());
+        assertEquals(1.0, objectPool.getUtilization(), 0.0);
+
+        final ConcurrentObjectPoolWithThreadAffinity pool = objectPool;
+        Thread returner = new Thread()
+        {
+            public void run()
+            {
+                try
+                {
+                    Thread.sleep(20);
+                    pool.returnObject(first);
+                }
+                catch (Exception e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        returner.start();
+        assertSame(first, objectPool.borrowObject());
+        returner.join();
+        assertEquals(1, objectPool.getWaitedBorrowCount());
+        assertTrue(objectPool.getMaxBorrowWaitMillis() > 0);
+    }
+
+    public void testConcurrentObjectPoolEviction() throws Exception
+    {
+        CountingFactory factory = new CountingFactory();
+        ConcurrentObjectPoolWithThreadAffinity objectPool = new ConcurrentObjectPoolWithThreadAffinity(factory, 4,
+                1000, 4, 1, true, false, -1, -1, 1);
+        Object[] borrowed = new Object[4];
+        for (int i = 0; i < borrowed.length; i++)
+        {
+            borrowed[i] = objectPool.borrowObject();
+        }
+        for (int i = 0; i < borrowed.length; i++)
+        {
+            objectPool.returnObject(borrowed[i]);
+            Thread.sleep(5);
+        }
+        assertEquals(4, objectPool.getNumIdle());
+        objectPool.evict();
+        assertEquals(1, objectPool.getNumIdle());
+        assertEquals(3, factory.destroyed.get());
+        // the oldest idle objects are evicted first
+        assertSame(borrowed[3], objectPool.borrowObject());
+    }
+
+    public void testConcurrentObjectPoolManyThreads() throws Exception
+    {
+        final CountingFactory factory = new CountingFactory();
+        final ConcurrentObjectPoolWithThreadAffinity objectPool = new ConcurrentObjectPoolWithThreadAffinity(factory, 4,
+                -1, 4, 0, true, false, -1, -1, -1);
+        final int threadCount = 16;
+        final int loops = 2000;
+        final AtomicInteger concurrentlyBorrowed = new AtomicInteger();
+        final AtomicInteger maxConcurrentlyBorrowed = new AtomicInteger();
+        final Throwable[] failure = new Throwable[1];
+        Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++)
+        {
+            threads[i] = new Thread()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        for (int j = 0; j < loops; j++)
+                        {
+                            Object o = objectPool.borrowObject();
+                            int now = concurrentlyBorrowed.incrementAndGet();
+                            if (now > maxConcurrentlyBorrowed.get())
+                            {
+                                maxConcurrentlyBorrowed.set(now);
+                            }
+                            concurrentlyBorrowed.decrementAndGet();
+                            objectPool.returnObject(o);
+                        }
+                    }
+                    catch (Throwable t)
+                    {
+                        failure[0] = t;
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (int i = 0; i < threadCount; i++)
+        {
+            threads[i].join();
+        }
+        assertNull(failure[0]);
+        assertTrue(maxConcurrentlyBorrowed.get() <= 4);
+        assertTrue(factory.created.get() <= 4);
+        assertEquals(0, objectPool.getNumActive());
+        assertEquals(factory.created.get(), objectPool.getNumIdle());
+        assertEquals(threadCount * loops, objectPool.getBorrowCount());
+        assertTrue(objectPool.getPeakActive() <= 4);
+    }
+
     private void borrowAndReturn(ObjectPoolWithThreadAffinity objectPool)
             throws Exception
     {
@@ -276,6 +441,35 @@ public class TestConnectionManager extends MithraTestAbstract
         objectPool.returnObject(ten);
     }
 
+    private static class CountingFactory implements PoolableObjectFactory
+    {
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger destroyed = new AtomicInteger();
+
+        public Object makeObject(ObjectPoolWithThreadAffinity pool) throws Exception
+        {
+            return "object " + created.incrementAndGet();
+        }
+
+        public void destroyObject(Object o) throws Exception
+        {
+            destroyed.incrementAndGet();
+        }
+
+        public boolean validateObject(Object o)
+        {
+            return true;
+        }
+
+        public void activateObject(Object o) throws Exception
+        {
+        }
+
+        public void passivateObject(Object o) throws Exception
+        {
+        }
+    }
+
     private static class BadFactory implements PoolableObjectFactory
     {
         private int count = 0;
@@ -34,7 +34,9 @@ import com.gs.fw.common.mithra.test.domain.DatedEntityList;
 import com.gs.fw.common.mithra.test.domain.Order;
 import com.gs.fw.common.mithra.test.domain.OrderFinder;
 import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
 import com.gs.fw.common.mithra.util.DoWhileProcedure;
+import com.gs.fw.common.mithra.util.OperationBasedFilter;
 import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
 
 import java.sql.Timestamp;
@@ -46,6 +48,8 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 
@@ -603,4 +607,85 @@ public class TestCursor extends MithraTestAbstract
         int expectedCount = BookFinder.getMithraObjectPortal().isPartiallyCached() ? 1 : 0;
         assertEquals(expectedCount, this.getRetrievalCount() - countBefore);
     }
+
+    public void testStreamWithCursorNonDatedOperationBasedList() throws Exception
+    {
+        BookList list = new BookList(BookFinder.all());
+        List<Book> streamed;
+        try (Stream<Book> stream = list.streamWithCursor())
+        {
+            streamed = stream.collect(Collectors.<Book>toList());
+        }
+        this.compareList(new BookList(BookFinder.all()), streamed, bookComparator);
+    }
+
+    public void testStreamWithCursorDatedOperationBasedList() throws Exception
+    {
+        Operation op = DatedEntityFinder.processingDate().eq(new Date());
+        List<DatedEntity> streamed = new DatedEntityList(op).streamWithCursor().collect(Collectors.<DatedEntity>toList());
+        this.compareList(new DatedEntityList(op), streamed, datedEntityComparator);
+    }
+
+    public void testStreamWithCursorNonOperationBasedList() throws Exception
+    {
+        BookList bookList = this.createBookList();
+        assertEquals(3, bookList.streamWithCursor().count());
+    }
+
+    public void testStreamWithCursorAndPostLoadFilter() throws Exception
+    {
+        BookList list = new BookList(BookFinder.all());
+        List<Book> streamed = list.streamWithCursor(new OperationBasedFilter(BookFinder.author().startsWith("Jo")), false).collect(Collectors.<Book>toList());
+        assertEquals(new BookList(BookFinder.author().startsWith("Jo")).size(), streamed.size());
+    }
+
+    public void testStreamWithCursorReleasesConnectionWhenClosedEarly() throws Exception
+    {
+        int activeConnections = ConnectionManagerForTests.getInstance().getNumberOfActiveConnections();
+        BookList list = new BookList(BookFinder.all());
+        list.setBypassCache(true);
+        try (Stream<Book> stream = list.streamWithCursor())
+        {
+            assertNotNull(stream.findFirst().get());
+        }
+        assertEquals(activeConnections, ConnectionManagerForTests.getInstance().getNumberOfActiveConnections());
+    }
+
+    public void testIteratorWithCursorBypassingObjectCache() throws Exception
+    {
+        Order cached = OrderFinder.findOne(OrderFinder.orderId().eq(1));
+        OrderList list = new OrderList(OrderFinder.orderId().eq(1));
+        list.setBypassCache(true);
+        try (Cursor cursor = list.iteratorWithCursor(null, true))
+        {
+            assertTrue(cursor.hasNext());
+            Order uncached = (Order) cursor.next();
+            assertNotSame(cached, uncached);
+            assertEquals(cached.getOrderId(), uncached.getOrderId());
+            assertEquals(cached.getDescription(), uncached.getDescription());
+            assertFalse(cursor.hasNext());
+        }
+        try (Cursor cursor = list.iteratorWithCursor())
+        {
+            assertSame(cached, cursor.next());
+        }
+    }
+
+    public void testIteratorWithCursorBypassingObjectCacheForDatedObjects() throws Exception
+    {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        DatedEntityList list = new DatedEntityList(DatedEntityFinder.processingDate().eq(now));
+        list.setBypassCache(true);
+        int count = 0;
+        try (Cursor cursor = list.iteratorWithCursor(null, true))
+        {
+            while (cursor.hasNext())
+            {
+                DatedEntity entity = (DatedEntity) cursor.next();
+                assertEquals(now, entity.getProcessingDate());
+                count++;
+            }
+        }
+        assertEquals(new DatedEntityList(DatedEntityFinder.processingDate().eq(now)).size(), count);
+    }
 }
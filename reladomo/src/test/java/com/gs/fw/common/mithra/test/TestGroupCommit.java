@@ -0,0 +1,199 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.transaction.GroupCommitTransactionStyle;
+
+import java.sql.Timestamp;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+public class TestGroupCommit extends MithraTestAbstract
+{
+    private static final int THREADS = 8;
+
+    public void testConcurrentCommandsAreCommittedTogether() throws Exception
+    {
+        final GroupCommitTransactionStyle style = new GroupCommitTransactionStyle(60, 3, 200000, THREADS);
+        final Object[] results = new Object[THREADS];
+        runConcurrently(new IndexedTask()
+        {
+            public void run(final int index)
+            {
+                results[index] = MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Integer>()
+                {
+                    public Integer executeTransaction(MithraTransaction tx) throws Throwable
+                    {
+                        createOrder(7000 + index).insert();
+                        return index;
+                    }
+                }, style);
+            }
+        });
+        for (int i = 0; i < THREADS; i++)
+        {
+            assertEquals(i, results[i]);
+            assertNotNull(OrderFinder.findOneBypassCache(OrderFinder.orderId().eq(7000 + i)));
+        }
+        assertTrue(style.getGroupCommitter().getGroupCount() > 0);
+        assertTrue(style.getGroupCommitter().getGroupedCommandCount() > 1);
+        assertEquals(0, style.getGroupCommitter().getFailedGroupCount());
+    }
+
+    public void testFailedCommandDoesNotFailTheRestOfItsGroup() throws Exception
+    {
+        final GroupCommitTransactionStyle style = new GroupCommitTransactionStyle(60, 3, 200000, THREADS);
+        final Throwable[] failures = new Throwable[THREADS];
+        final AtomicInteger executions = new AtomicInteger();
+        runConcurrently(new IndexedTask()
+        {
+            public void run(final int index)
+            {
+                try
+                {
+                    MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+                    {
+                        public Object executeTransaction(MithraTransaction tx) throws Throwable
+                        {
+                            executions.incrementAndGet();
+                            createOrder(7100 + index).insert();
+                            if (index == 3)
+                            {
+                                throw new IllegalStateException("command " + index + " fails");
+                            }
+                            return null;
+                        }
+                    }, style);
+                }
+                catch (Throwable t)
+                {
+                    failures[index] = t;
+                }
+            }
+        });
+        for (int i = 0; i < THREADS; i++)
+        {
+            if (i == 3)
+            {
+                assertTrue(failures[i] instanceof IllegalStateException);
+                assertNull(OrderFinder.findOneBypassCache(OrderFinder.orderId().eq(7100 + i)));
+            }
+            else
+            {
+                assertNull(failures[i]);
+                assertNotNull(OrderFinder.findOneBypassCache(OrderFinder.orderId().eq(7100 + i)));
+            }
+        }
+        // the failed group was rolled back and its commands ran again one at a time
+        assertTrue(style.getGroupCommitter().getFailedGroupCount() > 0);
+        assertTrue(executions.get() > THREADS);
+    }
+
+    public void testSingleCommand()
+    {
+        GroupCommitTransactionStyle style = new GroupCommitTransactionStyle(60, 3, 1000, THREADS);
+        Object result = MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<String>()
+        {
+            public String executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                createOrder(7200).insert();
+                return "done";
+            }
+        }, style);
+        assertEquals("done", result);
+        assertNotNull(OrderFinder.findOneBypassCache(OrderFinder.orderId().eq(7200)));
+        assertEquals(0, style.getGroupCommitter().getGroupCount());
+    }
+
+    public void testNestedCommandJoinsTheOuterTransaction()
+    {
+        final GroupCommitTransactionStyle style = new GroupCommitTransactionStyle(60, 3, 1000, THREADS);
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+        {
+            public Object executeTransaction(MithraTransaction outer) throws Throwable
+            {
+                createOrder(7300).insert();
+                MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+                {
+                    public Object executeTransaction(MithraTransaction tx) throws Throwable
+                    {
+                        createOrder(7301).insert();
+                        return null;
+                    }
+                }, style);
+                return null;
+            }
+        });
+        assertNotNull(OrderFinder.findOneBypassCache(OrderFinder.orderId().eq(7301)));
+        assertEquals(0, style.getGroupCommitter().getGroupCount());
+    }
+
+    private static Order createOrder(int orderId)
+    {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setOrderDate(new Timestamp(System.currentTimeMillis()));
+        order.setUserId(1);
+        order.setDescription("order " + orderId);
+        order.setState("In-Progress");
+        order.setTrackingId(String.valueOf(orderId));
+        return order;
+    }
+
+    private static void runConcurrently(final IndexedTask task) throws InterruptedException
+    {
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; i++)
+        {
+            final int index = i;
+            threads[i] = new Thread("group commit " + i)
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        return;
+                    }
+                    task.run(index);
+                }
+            };
+            threads[i].start();
+        }
+        start.countDown();
+        for (int i = 0; i < THREADS; i++)
+        {
+            threads[i].join();
+        }
+    }
+
+    private interface IndexedTask
+    {
+        public void run(int index);
+    }
+}
@@ -22,10 +22,15 @@ package com.gs.fw.common.mithra.test;
 import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.connectionmanager.PreparedStatementCache;
+import com.gs.fw.common.mithra.databasetype.ArrayInClauseStrategy;
+import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
+import com.gs.fw.common.mithra.databasetype.LargeInClauseStrategy;
 import com.gs.fw.common.mithra.finder.AtomicEqualityOperation;
 import com.gs.fw.common.mithra.finder.InOperation;
 import com.gs.fw.common.mithra.finder.None;
 import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.SqlQuery;
 import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
 import com.gs.fw.common.mithra.test.domain.Order;
 import com.gs.fw.common.mithra.test.domain.OrderFinder;
@@ -52,11 +57,13 @@ import org.eclipse.collections.impl.set.mutable.primitive.ShortHashSet;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TimeZone;
 
 public class TestIn
 extends TestSqlDatatypes
@@ -787,6 +794,168 @@ extends TestSqlDatatypes
         assertTrue(UserFinder.findMany(UserFinder.sourceId().in(sources).and(UserFinder.id().in(pks))).size() > 0);
     }
 
+    public void testInClauseBuckets()
+    {
+        assertEquals(1, SqlQuery.bucketInClauseSize(1));
+        assertEquals(8, SqlQuery.bucketInClauseSize(8));
+        assertEquals(10, SqlQuery.bucketInClauseSize(9));
+        assertEquals(16, SqlQuery.bucketInClauseSize(16));
+        assertEquals(20, SqlQuery.bucketInClauseSize(17));
+        assertEquals(112, SqlQuery.bucketInClauseSize(100));
+        assertEquals(1024, SqlQuery.bucketInClauseSize(1000));
+        for (int i = 1; i < 5000; i++)
+        {
+            int bucket = SqlQuery.bucketInClauseSize(i);
+            assertTrue(bucket >= i);
+            assertTrue(bucket - i <= i / 4);
+        }
+    }
+
+    public void testPaddedInClauseReusesPreparedStatement()
+    {
+        IntHashSet ids = new IntHashSet();
+        for (int i = 1; i <= 9; i++)
+        {
+            ids.add(i);
+        }
+        OrderList nine = new OrderList(OrderFinder.orderId().in(ids));
+        nine.setBypassCache(true);
+        OrderList expectedNine = new OrderList(OrderFinder.orderId().lessThanEquals(9).and(OrderFinder.orderId().greaterThanEquals(1)));
+        expectedNine.setBypassCache(true);
+        assertEquals(expectedNine.size(), nine.size());
+
+        OrderList expectedTen = new OrderList(OrderFinder.orderId().lessThanEquals(10).and(OrderFinder.orderId().greaterThanEquals(1)));
+        expectedTen.setBypassCache(true);
+        int expectedTenSize = expectedTen.size();
+
+        ids.add(10);
+        OrderList ten = new OrderList(OrderFinder.orderId().in(ids));
+        ten.setBypassCache(true);
+        // nine and ten values are both padded to ten question marks, so the second query reuses the first statement
+        long hits = PreparedStatementCache.getHitCount();
+        long misses = PreparedStatementCache.getMissCount();
+        assertEquals(expectedTenSize, ten.size());
+        assertEquals(hits + 1, PreparedStatementCache.getHitCount());
+        assertEquals(misses, PreparedStatementCache.getMissCount());
+    }
+
+    public void testLargeStringInWithArrayBinding()
+    {
+        OrderList list = new OrderList();
+        for(int i=0;i<2000;i++)
+        {
+            Order order = new Order();
+            order.setOrderId(i+10000);
+            order.setDescription("large"+i);
+            list.add(order);
+        }
+        list.insertAll();
+        UnifiedSet<String> set = new UnifiedSet<String>();
+        for(int i=0;i<1488;i+=2)
+        {
+            set.add("large"+i);
+        }
+        OrderFinder.clearQueryCache();
+        OrderList toFind = new OrderList(OrderFinder.description().in(set).and(OrderFinder.orderId().greaterThanEquals(10000)));
+        assertEquals(1488/2, toFind.size());
+    }
+
+    public void testArrayInClauseStrategyFollowsObservedTimes()
+    {
+        ArrayInClauseStrategy strategy = new ArrayInClauseStrategy("select * from table(x %s = ?)", "INTEGER", "BIGINT", "VARCHAR");
+        assertEquals("select * from table(x VARCHAR = ?)", strategy.getArraySubSelect(String.class));
+        assertFalse(strategy.bindAsArray(Double.class, 1000));
+        assertTrue(strategy.bindAsArray(Integer.class, 1000));
+        for(int i=0;i<4;i++)
+        {
+            strategy.recordExecution(true, 1000, 1000000);
+            strategy.recordExecution(false, 1000, 100000);
+        }
+        assertFalse(strategy.isArrayPreferred(1000));
+        assertTrue(strategy.isArrayPreferred(100));
+
+        int arrays = 0;
+        for(int i=0;i<2*ArrayInClauseStrategy.PROBE_INTERVAL;i++)
+        {
+            if (strategy.bindAsArray(Integer.class, 1000)) arrays++;
+        }
+        assertEquals(2, arrays);
+
+        for(int i=0;i<20;i++)
+        {
+            strategy.recordExecution(true, 1000, 10000);
+        }
+        assertTrue(strategy.isArrayPreferred(1000));
+    }
+
+    public void testTempTableWinsWhenArrayExecutionIsSlow() throws Exception
+    {
+        final AlternatingArrayInClauseStrategy strategy = new AlternatingArrayInClauseStrategy();
+        H2DatabaseType dt = new H2DatabaseType()
+        {
+            @Override
+            public LargeInClauseStrategy getLargeInClauseStrategy()
+            {
+                return strategy;
+            }
+        };
+        IntHashSet ids = new IntHashSet();
+        for(int i=0;i<1000;i++)
+        {
+            ids.add(i);
+        }
+        Connection con = this.getConnection();
+        try
+        {
+            for(int i=0;i<8;i++)
+            {
+                SqlQuery query = new SqlQuery(OrderFinder.orderId().in(ids), null, false);
+                int queries = query.prepareQueryForSource(0, dt, TimeZone.getDefault());
+                try
+                {
+                    for(int q=0;q<queries;q++)
+                    {
+                        query.prepareForQuery(q);
+                        PreparedStatement stm = con.prepareStatement(dt.getSelect("count(*)", query, null, false, 0));
+                        query.setStatementParameters(stm);
+                        ResultSet rs = stm.executeQuery();
+                        assertTrue(rs.next());
+                        rs.close();
+                        stm.close();
+                    }
+                }
+                finally
+                {
+                    query.cleanTempForSource(0, dt);
+                }
+            }
+        }
+        finally
+        {
+            con.close();
+        }
+        assertEquals(8, strategy.decisions);
+        // binding the array is cheap; the time goes into executing the sub-select, which must be counted against arrays
+        assertTrue(strategy.getAverageNanosPerValue(true, 1000) > strategy.getAverageNanosPerValue(false, 1000));
+        assertFalse(strategy.isArrayPreferred(1000));
+    }
+
+    private static class AlternatingArrayInClauseStrategy extends ArrayInClauseStrategy
+    {
+        private int decisions;
+
+        private AlternatingArrayInClauseStrategy()
+        {
+            super("select distinct a.x from table(x %s = ?) a, system_range(1, 100) b", "INTEGER", "BIGINT", "VARCHAR");
+        }
+
+        @Override
+        public boolean bindAsArray(Class valueType, int setSize)
+        {
+            return decisions++ % 2 == 0;
+        }
+    }
+
     public void testLargeInClauseTwoSixty()
     {
         twoLargeInClause(60);
@@ -0,0 +1,143 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.fw.common.mithra.cache.MithraReferenceThread;
+import com.gs.fw.common.mithra.cache.ReferenceListener;
+import junit.framework.TestCase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+public class TestMithraReferenceThread extends TestCase
+{
+    private MithraReferenceThread referenceThread;
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        if (this.referenceThread != null)
+        {
+            this.referenceThread.shutdown();
+        }
+        super.tearDown();
+    }
+
+    public void testRunNowCallsEveryListener() throws Exception
+    {
+        this.referenceThread = start(3, 10, 50, Long.MAX_VALUE / 2);
+        CountingListener[] listeners = createListeners(10, 0);
+        waitForCalls(listeners, 1);
+        for (int i = 0; i < 5; i++)
+        {
+            this.referenceThread.runNow();
+            Thread.sleep(20);
+        }
+        waitForCalls(listeners, 2);
+    }
+
+    public void testGarbageCollectionTriggersASweep() throws Exception
+    {
+        this.referenceThread = start(1, 10, 50, Long.MAX_VALUE / 2);
+        CountingListener[] listeners = createListeners(2, 0);
+        waitForCalls(listeners, 1);
+        System.gc();
+        waitForCalls(listeners, 2);
+    }
+
+    public void testSweepStopsWhenOutOfTime() throws Exception
+    {
+        this.referenceThread = start(2, 10, 1, Long.MAX_VALUE / 2);
+        CountingListener[] listeners = createListeners(20, 5);
+        // every listener still gets called, over several ticks
+        waitForCalls(listeners, 1);
+        assertTrue(this.referenceThread.getUnfinishedSweepCount() > 0);
+    }
+
+    public void testRemovedListenerIsNotCalled() throws Exception
+    {
+        this.referenceThread = start(2, 10, 50, Long.MAX_VALUE / 2);
+        CountingListener[] listeners = createListeners(4, 0);
+        waitForCalls(listeners, 1);
+        this.referenceThread.removeListener(listeners[0]);
+        this.referenceThread.runNow();
+        Thread.sleep(100);
+        int calls = listeners[0].calls.get();
+        this.referenceThread.runNow();
+        waitForCalls(new CountingListener[] { listeners[1], listeners[2], listeners[3] }, listeners[1].calls.get() + 1);
+        assertEquals(calls, listeners[0].calls.get());
+    }
+
+    private static MithraReferenceThread start(int workers, long tickMillis, long timeBudgetMillis, long maxIntervalMillis)
+    {
+        MithraReferenceThread referenceThread = new MithraReferenceThread(workers, tickMillis, timeBudgetMillis, maxIntervalMillis);
+        referenceThread.start();
+        return referenceThread;
+    }
+
+    private CountingListener[] createListeners(int count, long sleepMillis)
+    {
+        CountingListener[] listeners = new CountingListener[count];
+        for (int i = 0; i < count; i++)
+        {
+            listeners[i] = new CountingListener(sleepMillis);
+            this.referenceThread.addListener(listeners[i]);
+        }
+        this.referenceThread.runNow();
+        return listeners;
+    }
+
+    private static void waitForCalls(CountingListener[] listeners, int calls) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 10000;
+        for (CountingListener listener : listeners)
+        {
+            while (listener.calls.get() < calls)
+            {
+                assertTrue("listener not called in time", System.currentTimeMillis() < deadline);
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private static class CountingListener implements ReferenceListener
+    {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final long sleepMillis;
+
+        private CountingListener(long sleepMillis)
+        {
+            this.sleepMillis = sleepMillis;
+        }
+
+        public void evictCollectedReferences()
+        {
+            if (this.sleepMillis > 0)
+            {
+                try
+                {
+                    Thread.sleep(this.sleepMillis);
+                }
+                catch (InterruptedException e)
+                {
+                    // ignore
+                }
+            }
+            this.calls.incrementAndGet();
+        }
+    }
+}
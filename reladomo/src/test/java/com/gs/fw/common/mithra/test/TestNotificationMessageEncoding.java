@@ -0,0 +1,203 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.notification.BinaryNotificationMessageCodec;
+import com.gs.fw.common.mithra.notification.ExternalizableMithraNotificationMessage;
+import com.gs.fw.common.mithra.notification.MithraNotificationEvent;
+import com.gs.fw.common.mithra.notification.NotificationEventCoalescer;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderDatabaseObject;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderItemData;
+import com.gs.fw.common.mithra.test.domain.OrderItemDatabaseObject;
+import com.gs.fw.common.mithra.test.domain.OrderItemFinder;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public class TestNotificationMessageEncoding extends MithraTestAbstract
+{
+    private static final String ORDER = OrderFinder.getFinderInstance().getFinderClassName();
+    private static final String ORDER_ITEM = OrderItemFinder.getFinderInstance().getFinderClassName();
+
+    private static MithraDataObject[] orders(int... ids)
+    {
+        MithraDataObject[] result = new MithraDataObject[ids.length];
+        for (int i = 0; i < ids.length; i++)
+        {
+            OrderData data = OrderDatabaseObject.allocateOnHeapData();
+            data.setOrderId(ids[i]);
+            result[i] = data;
+        }
+        return result;
+    }
+
+    private static MithraDataObject[] orderItems(int... ids)
+    {
+        MithraDataObject[] result = new MithraDataObject[ids.length];
+        for (int i = 0; i < ids.length; i++)
+        {
+            OrderItemData data = OrderItemDatabaseObject.allocateOnHeapData();
+            data.setId(ids[i]);
+            result[i] = data;
+        }
+        return result;
+    }
+
+    private static MithraNotificationEvent event(String classname, byte op, MithraDataObject[] data, Attribute... updated)
+    {
+        return new MithraNotificationEvent(classname, op, data, updated.length == 0 ? null : updated, null, null);
+    }
+
+    private static Map<String, List<MithraNotificationEvent>> eventsFor(String databaseIdentifier, MithraNotificationEvent... events)
+    {
+        Map<String, List<MithraNotificationEvent>> result = UnifiedMap.newMap();
+        result.put(databaseIdentifier, FastList.newListWith(events));
+        return result;
+    }
+
+    private static void assertOrderIds(MithraNotificationEvent event, int... ids)
+    {
+        MithraDataObject[] dataObjects = event.getDataObjects();
+        assertEquals(ids.length, dataObjects.length);
+        for (int i = 0; i < ids.length; i++)
+        {
+            assertEquals(ids[i], ((OrderData) dataObjects[i]).getOrderId());
+        }
+    }
+
+    public void testCoalescerMergesUpdatesAndDedupesPrimaryKeys()
+    {
+        NotificationEventCoalescer coalescer = new NotificationEventCoalescer();
+        coalescer.add(eventsFor("db", event(ORDER, MithraNotificationEvent.UPDATE, orders(1, 2), OrderFinder.state())), 7);
+        int pending = coalescer.add(eventsFor("db", event(ORDER, MithraNotificationEvent.UPDATE, orders(2, 3), OrderFinder.description(), OrderFinder.state())), 7);
+        assertEquals(3, pending);
+
+        List<NotificationEventCoalescer.Batch> batches = coalescer.drain();
+        assertEquals(1, batches.size());
+        assertEquals("db", batches.get(0).getDatabaseIdentifier());
+        assertEquals(7, batches.get(0).getRequestorVmId());
+        List<MithraNotificationEvent> events = batches.get(0).getEvents();
+        assertEquals(1, events.size());
+        assertOrderIds(events.get(0), 1, 2, 3);
+        Attribute[] updated = events.get(0).getUpdatedAttributes();
+        assertEquals(2, updated.length);
+        assertSame(OrderFinder.state(), updated[0]);
+        assertSame(OrderFinder.description(), updated[1]);
+
+        assertTrue(coalescer.drain().isEmpty());
+    }
+
+    public void testCoalescerKeepsOperationOrderPerClass()
+    {
+        NotificationEventCoalescer coalescer = new NotificationEventCoalescer();
+        coalescer.add(eventsFor("db", event(ORDER, MithraNotificationEvent.INSERT, orders(1)),
+                event(ORDER_ITEM, MithraNotificationEvent.INSERT, orderItems(10))), 7);
+        coalescer.add(eventsFor("db", event(ORDER, MithraNotificationEvent.DELETE, orders(1)),
+                event(ORDER_ITEM, MithraNotificationEvent.INSERT, orderItems(11))), 7);
+        coalescer.add(eventsFor("db", event(ORDER, MithraNotificationEvent.INSERT, orders(1))), 7);
+
+        List<MithraNotificationEvent> events = coalescer.drain().get(0).getEvents();
+        assertEquals(4, events.size());
+        assertEquals(MithraNotificationEvent.INSERT, events.get(0).getDatabaseOperation());
+        assertEquals(ORDER_ITEM, events.get(1).getClassname());
+        assertEquals(2, events.get(1).getDataObjects().length);
+        assertEquals(MithraNotificationEvent.DELETE, events.get(2).getDatabaseOperation());
+        assertEquals(MithraNotificationEvent.INSERT, events.get(3).getDatabaseOperation());
+    }
+
+    public void testCoalescerSeparatesDatabasesRequestorsAndMassDeletes()
+    {
+        NotificationEventCoalescer coalescer = new NotificationEventCoalescer();
+        MithraNotificationEvent massDelete = new MithraNotificationEvent(ORDER, MithraNotificationEvent.MASS_DELETE, null, null, OrderFinder.userId().eq(1), null);
+        coalescer.add(eventsFor("db1", massDelete), 7);
+        coalescer.add(eventsFor("db1", massDelete), 7);
+        coalescer.add(eventsFor("db2", event(ORDER, MithraNotificationEvent.INSERT, orders(1))), 7);
+        coalescer.add(eventsFor("db2", event(ORDER, MithraNotificationEvent.INSERT, orders(2))), 8);
+
+        List<NotificationEventCoalescer.Batch> batches = coalescer.drain();
+        assertEquals(3, batches.size());
+        for (NotificationEventCoalescer.Batch batch : batches)
+        {
+            if (batch.getDatabaseIdentifier().equals("db1"))
+            {
+                assertEquals(2, batch.getEvents().size());
+            }
+            else
+            {
+                assertEquals(1, batch.getEvents().size());
+                assertOrderIds(batch.getEvents().get(0), batch.getRequestorVmId() == 7 ? 1 : 2);
+            }
+        }
+    }
+
+    public void testBinaryRoundTrip() throws IOException
+    {
+        assertBinaryRoundTrip(true);
+        assertBinaryRoundTrip(false);
+    }
+
+    private void assertBinaryRoundTrip(boolean compress) throws IOException
+    {
+        List<MithraNotificationEvent> events = FastList.newListWith(
+                event(ORDER, MithraNotificationEvent.UPDATE, orders(1, 2, 3), OrderFinder.state(), OrderFinder.description()),
+                event(ORDER_ITEM, MithraNotificationEvent.INSERT, orderItems(10)),
+                new MithraNotificationEvent(ORDER, MithraNotificationEvent.MASS_DELETE, null, null, OrderFinder.userId().eq(1), null),
+                event(ORDER, MithraNotificationEvent.DELETE, orders(4)));
+        ExternalizableMithraNotificationMessage message = new ExternalizableMithraNotificationMessage(events);
+        message.setMithraVmId(11);
+        message.setRequestorVmId(12);
+
+        BinaryNotificationMessageCodec codec = new BinaryNotificationMessageCodec();
+        byte[] bytes = codec.encode(message, compress);
+        assertTrue(BinaryNotificationMessageCodec.isBinaryMessage(bytes));
+        assertFalse(BinaryNotificationMessageCodec.isBinaryMessage(new byte[] { (byte) 0xAC, (byte) 0xED, 0, 5, 0x73 }));
+
+        ExternalizableMithraNotificationMessage decoded = codec.decode(bytes);
+        assertEquals(11, decoded.getMithraVmId());
+        assertEquals(12, decoded.getRequestorVmId());
+        List<MithraNotificationEvent> decodedEvents = decoded.getNotificationEvents();
+        assertEquals(4, decodedEvents.size());
+
+        // events are grouped by class, keeping their order within the class
+        MithraNotificationEvent update = decodedEvents.get(0);
+        assertEquals(ORDER, update.getClassname());
+        assertEquals(MithraNotificationEvent.UPDATE, update.getDatabaseOperation());
+        assertOrderIds(update, 1, 2, 3);
+        assertEquals(2, update.getUpdatedAttributes().length);
+        assertEquals(OrderFinder.state().getAttributeName(), update.getUpdatedAttributes()[0].getAttributeName());
+
+        MithraNotificationEvent massDelete = decodedEvents.get(1);
+        assertEquals(MithraNotificationEvent.MASS_DELETE, massDelete.getDatabaseOperation());
+        assertNull(massDelete.getDataObjects());
+        assertEquals(OrderFinder.userId().eq(1), massDelete.getOperationForMassDelete());
+
+        assertEquals(MithraNotificationEvent.DELETE, decodedEvents.get(2).getDatabaseOperation());
+        assertOrderIds(decodedEvents.get(2), 4);
+
+        MithraNotificationEvent insert = decodedEvents.get(3);
+        assertEquals(ORDER_ITEM, insert.getClassname());
+        assertNull(insert.getUpdatedAttributes());
+        assertEquals(10, ((OrderItemData) insert.getDataObjects()[0]).getId());
+    }
+}
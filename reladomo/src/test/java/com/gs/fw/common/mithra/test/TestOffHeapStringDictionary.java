@@ -0,0 +1,139 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+
+import com.gs.fw.common.mithra.cache.ConcurrentOffHeapStringIndex;
+import com.gs.fw.common.mithra.cache.StringIndex;
+import com.gs.fw.common.mithra.cache.offheap.MasterRetrieveStringResult;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapStringDictionary;
+import com.gs.fw.common.mithra.util.ExceptionCatchingThread;
+import junit.framework.TestCase;
+
+public class TestOffHeapStringDictionary extends TestCase
+{
+    private StringIndex createStringPool()
+    {
+        return new ConcurrentOffHeapStringIndex(10, new OffHeapStringDictionary(16));
+    }
+
+    public void testRoundTrip()
+    {
+        OffHeapStringDictionary dictionary = new OffHeapStringDictionary(2);
+        try
+        {
+            StringBuilder large = new StringBuilder();
+            for (int i = 0; i < 300000; i++)
+            {
+                large.append((char) ('a' + i % 26));
+            }
+            String[] values = { "", "USD", "caf\u00e9", "\u6771\u4eac", large.toString(), large.toString() + '\u20ac' };
+            int[] codes = new int[values.length];
+            for (int i = 0; i < values.length; i++)
+            {
+                codes[i] = dictionary.store(values[i]);
+                assertTrue(codes[i] > StringIndex.UNKNOWN_STRING);
+            }
+            for (int i = 0; i < 1000; i++)
+            {
+                // push the strings above out of the hot cache
+                dictionary.store("filler" + i);
+            }
+            for (int i = 0; i < values.length; i++)
+            {
+                assertEquals(values[i], dictionary.getString(codes[i]));
+                assertTrue(dictionary.matches(codes[i], values[i]));
+                assertFalse(dictionary.matches(codes[i], values[i] + "x"));
+            }
+            assertFalse(dictionary.matches(codes[1], "EUR"));
+            assertEquals(values.length + 1000, dictionary.size());
+            assertEquals(codes[0] + values.length + 999, dictionary.getMaxStringAddress());
+            assertTrue(dictionary.getAllocatedBytes() > 600000);
+        }
+        finally
+        {
+            dictionary.destroy();
+        }
+        assertEquals(0, dictionary.getAllocatedBytes());
+    }
+
+    public void testOffHeapStringsAreEncoded()
+    {
+        StringIndex index = createStringPool();
+        int usd = index.getIfAbsentPutOffHeap(new String("USD"));
+        int eur = index.getIfAbsentPutOffHeap(new String("EUR"));
+        assertTrue(usd != eur);
+        assertEquals(usd, index.getIfAbsentPutOffHeap(new String("USD")));
+        assertEquals(usd, index.getOffHeapReference("USD"));
+        assertEquals(StringIndex.UNKNOWN_STRING, index.getOffHeapReference("GBP"));
+        assertEquals("EUR", index.getStringFromOffHeapAddress(eur));
+
+        // once a caller on the heap asks for the string, it gets the same instance every time
+        String pooled = index.getIfAbsentPut(new String("USD"), false);
+        assertEquals("USD", pooled);
+        assertSame(pooled, index.getIfAbsentPut(new String("USD"), false));
+        assertEquals(usd, index.getIfAbsentPutOffHeap("USD"));
+
+        MasterRetrieveStringResult result = index.retrieveStrings(usd);
+        assertEquals(2, result.getMasterStrings().length);
+        assertEquals("USD", result.getMasterStrings()[0]);
+        assertEquals("EUR", result.getMasterStrings()[1]);
+    }
+
+    public void testConcurrentEncoding() throws Exception
+    {
+        final int max = 1 << 15;
+        final StringIndex index = createStringPool();
+        final int threads = 8;
+        final int[][] codes = new int[threads][max];
+        ExceptionCatchingThread[] runners = new ExceptionCatchingThread[threads];
+        for (int t = 0; t < threads; t++)
+        {
+            final int thread = t;
+            runners[t] = new ExceptionCatchingThread(new Runnable()
+            {
+                public void run()
+                {
+                    // each thread walks all the values in a different order, so they race on inserts and resizes
+                    for (int i = 0; i < max; i++)
+                    {
+                        int value = (i * (2 * thread + 1)) % max;
+                        codes[thread][value] = index.getIfAbsentPutOffHeap("value" + value);
+                    }
+                }
+            });
+        }
+        for (int t = 0; t < threads; t++)
+        {
+            runners[t].start();
+        }
+        for (int t = 0; t < threads; t++)
+        {
+            runners[t].joinWithExceptionHandling();
+        }
+        assertEquals(max, index.size());
+        for (int i = 0; i < max; i++)
+        {
+            for (int t = 1; t < threads; t++)
+            {
+                assertEquals(codes[0][i], codes[t][i]);
+            }
+            assertEquals("value" + i, index.getStringFromOffHeapAddress(codes[0][i]));
+            assertEquals(codes[0][i], index.getOffHeapReference("value" + i));
+        }
+    }
+}
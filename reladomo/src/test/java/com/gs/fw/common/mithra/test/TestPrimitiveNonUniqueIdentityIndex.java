@@ -0,0 +1,274 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.fw.common.mithra.cache.Index;
+import com.gs.fw.common.mithra.cache.IntNonUniqueIdentityIndex;
+import com.gs.fw.common.mithra.cache.LongNonUniqueIdentityIndex;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.extractor.IntExtractor;
+import com.gs.fw.common.mithra.extractor.LongExtractor;
+import com.gs.fw.common.mithra.util.DoUntilProcedure;
+import junit.framework.TestCase;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+
+public class TestPrimitiveNonUniqueIdentityIndex extends TestCase
+{
+    private static final long LONG_KEY_OFFSET = 1L << 40;
+
+    public void testIntIndexAgainstReference()
+    {
+        IntNonUniqueIdentityIndex index = new IntNonUniqueIdentityIndex(new Extractor[] { new IntKeyExtractor() }, 4);
+        runAgainstReference(index, false);
+    }
+
+    public void testLongIndexAgainstReference()
+    {
+        LongNonUniqueIdentityIndex index = new LongNonUniqueIdentityIndex(new Extractor[] { new LongKeyExtractor() }, 4);
+        runAgainstReference(index, true);
+    }
+
+    public void testNulls()
+    {
+        IntNonUniqueIdentityIndex index = new IntNonUniqueIdentityIndex(new Extractor[] { new IntKeyExtractor() });
+        TestObject nullOne = new TestObject(0, true);
+        TestObject nullTwo = new TestObject(0, true);
+        TestObject zero = new TestObject(0, false);
+        index.put(nullOne);
+        index.put(nullTwo);
+        index.put(zero);
+        assertEquals(3, index.size());
+        assertSame(zero, index.get(0));
+        assertEquals(2, ((List) index.getNulls()).size());
+        assertEquals(2, ((List) index.get(nullOne, new Extractor[] { new IntKeyExtractor() })).size());
+        assertTrue(index.contains(nullTwo, new Extractor[] { new IntKeyExtractor() }, null));
+        index.remove(nullOne);
+        assertSame(nullTwo, index.getNulls());
+        index.remove(nullTwo);
+        assertNull(index.getNulls());
+        assertEquals(1, index.size());
+        assertEquals(1, index.getAverageReturnSize());
+    }
+
+    public void testEnsureExtraCapacityAndClear()
+    {
+        IntNonUniqueIdentityIndex index = new IntNonUniqueIdentityIndex(new Extractor[] { new IntKeyExtractor() });
+        index.ensureExtraCapacity(10000);
+        for (int i = 0; i < 10000; i++)
+        {
+            index.put(new TestObject(i * 64, false)); // keys that collide in the low bits
+        }
+        for (int i = 0; i < 10000; i++)
+        {
+            assertEquals(i * 64, ((TestObject) index.get(i * 64)).key);
+        }
+        index.clear();
+        assertEquals(0, index.size());
+        assertNull(index.get(64));
+    }
+
+    private void runAgainstReference(Index index, boolean longKeys)
+    {
+        Random random = new Random(1234);
+        Map<Long, List<TestObject>> reference = new HashMap<Long, List<TestObject>>();
+        List<TestObject> all = new ArrayList<TestObject>();
+        Extractor[] extractors = index.getExtractors();
+        for (int i = 0; i < 20000; i++)
+        {
+            if (all.isEmpty() || random.nextInt(3) > 0)
+            {
+                TestObject o = new TestObject(random.nextInt(500) - 250, false);
+                index.put(o);
+                all.add(o);
+                referenceList(reference, o.key).add(o);
+            }
+            else
+            {
+                TestObject o = all.remove(random.nextInt(all.size()));
+                index.remove(o);
+                referenceList(reference, o.key).remove(o);
+            }
+            if (i % 1000 == 0)
+            {
+                assertSameContents(index, reference, extractors, longKeys);
+            }
+        }
+        assertEquals(all.size(), countAll(index));
+        assertSameContents(index, reference, extractors, longKeys);
+        for (int i = 0; i < all.size(); i++)
+        {
+            index.remove(all.get(i));
+        }
+        for (int key = -250; key < 250; key++)
+        {
+            assertNull(longKeys ? index.get(key + LONG_KEY_OFFSET) : index.get(key));
+        }
+    }
+
+    private static List<TestObject> referenceList(Map<Long, List<TestObject>> reference, long key)
+    {
+        List<TestObject> list = reference.get(key);
+        if (list == null)
+        {
+            list = new ArrayList<TestObject>();
+            reference.put(key, list);
+        }
+        return list;
+    }
+
+    private void assertSameContents(Index index, Map<Long, List<TestObject>> reference, Extractor[] extractors, boolean longKeys)
+    {
+        for (Map.Entry<Long, List<TestObject>> entry : reference.entrySet())
+        {
+            int key = entry.getKey().intValue();
+            Object found = longKeys ? index.get(key + LONG_KEY_OFFSET) : index.get(key);
+            assertEquals(toList(found).size(), entry.getValue().size());
+            assertTrue(toList(found).containsAll(entry.getValue()));
+            assertEquals(toList(found).size(), toList(index.get(new TestObject(key, false), extractors)).size());
+        }
+    }
+
+    private static List toList(Object found)
+    {
+        if (found == null)
+        {
+            return Collections.emptyList();
+        }
+        if (found instanceof List)
+        {
+            return (List) found;
+        }
+        return Collections.singletonList(found);
+    }
+
+    private static int countAll(Index index)
+    {
+        final int[] count = new int[1];
+        DoUntilProcedure counter = new DoUntilProcedure()
+        {
+            public boolean execute(Object object)
+            {
+                count[0] += toList(object).size();
+                return false;
+            }
+        };
+        if (index instanceof IntNonUniqueIdentityIndex)
+        {
+            ((IntNonUniqueIdentityIndex) index).doUntil(counter);
+        }
+        else
+        {
+            ((LongNonUniqueIdentityIndex) index).doUntil(counter);
+        }
+        return count[0];
+    }
+
+    private static class TestObject
+    {
+        private int key;
+        private boolean keyNull;
+
+        private TestObject(int key, boolean keyNull)
+        {
+            this.key = key;
+            this.keyNull = keyNull;
+        }
+    }
+
+    private abstract static class TestExtractor implements Extractor
+    {
+        public void setValue(Object o, Object newValue)
+        {
+        }
+
+        public void setValueNull(Object o)
+        {
+        }
+
+        public void setValueUntil(Object o, Object newValue, Timestamp exclusiveUntil)
+        {
+        }
+
+        public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+        {
+        }
+
+        public boolean isAttributeNull(Object o)
+        {
+            return ((TestObject) o).keyNull;
+        }
+
+        public boolean valueEquals(Object first, Object second, Extractor secondExtractor)
+        {
+            return ((TestObject) first).key == ((TestObject) second).key;
+        }
+
+        public int valueHashCode(Object object)
+        {
+            return ((TestObject) object).key;
+        }
+
+        public boolean valueEquals(Object first, Object second)
+        {
+            return ((TestObject) first).key == ((TestObject) second).key;
+        }
+    }
+
+    private static class IntKeyExtractor extends TestExtractor implements IntExtractor
+    {
+        public int intValueOf(Object o)
+        {
+            return ((TestObject) o).key;
+        }
+
+        public void setIntValue(Object o, int newValue)
+        {
+            ((TestObject) o).key = newValue;
+        }
+
+        public Object valueOf(Object object)
+        {
+            return ((TestObject) object).key;
+        }
+    }
+
+    private static class LongKeyExtractor extends TestExtractor implements LongExtractor
+    {
+        public long longValueOf(Object o)
+        {
+            return ((TestObject) o).key + LONG_KEY_OFFSET;
+        }
+
+        public void setLongValue(Object o, long newValue)
+        {
+            ((TestObject) o).key = (int) (newValue - LONG_KEY_OFFSET);
+        }
+
+        public Object valueOf(Object object)
+        {
+            return longValueOf(object);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.fw.common.mithra.finder.AnalyzedOperation;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.remote.RemoteContinuedCursorResult;
+import com.gs.fw.common.mithra.remote.RemoteCursor;
+import com.gs.fw.common.mithra.remote.RemoteMithraObjectPersister;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.util.MultiVmTestMithraRemoteServerFactory;
+import com.gs.fw.common.mithra.test.util.tinyproxy.PspRuntimeException;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Properties;
+
+
+public class TestRemoteCursorPrefetch extends RemoteMithraServerTestCase
+{
+    private static final int ORDER_COUNT = 12000;
+    private static final int FIRST_ORDER_ID = 100000;
+    private static final int USER_ID = 998;
+
+    private ContinueRecorder recorder;
+
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        this.getRemoteWorkerVm().executeMethod("serverInsertOrders", new Class[] { int.class, int.class }, new Object[] { Integer.valueOf(ORDER_COUNT), Integer.valueOf(FIRST_ORDER_ID) });
+    }
+
+    public void serverInsertOrders(int count, int firstOrderId)
+    {
+        OrderList list = new OrderList();
+        for (int i = 0; i < count; i++)
+        {
+            Order order = new Order();
+            order.setOrderId(firstOrderId + i);
+            order.setUserId(USER_ID);
+            list.add(order);
+        }
+        this.getMithraTestResource().insertTestData(list);
+    }
+
+    private Cursor findCursor(boolean olderServer, long continueDelay) throws Exception
+    {
+        return findCursor(createPersister(olderServer, continueDelay));
+    }
+
+    private RemoteMithraObjectPersister createPersister(boolean olderServer, long continueDelay) throws Exception
+    {
+        RemoteMithraService service = MultiVmTestMithraRemoteServerFactory.getInstance(new Properties());
+        this.recorder = new ContinueRecorder(service, olderServer, continueDelay);
+        RemoteMithraService recordingService = (RemoteMithraService) Proxy.newProxyInstance(RemoteMithraService.class.getClassLoader(),
+                new Class[] { RemoteMithraService.class }, this.recorder);
+        return new RemoteMithraObjectPersister(recordingService, OrderFinder.getFinderInstance(), false);
+    }
+
+    private Cursor findCursor(RemoteMithraObjectPersister persister)
+    {
+        return persister.findCursor(new AnalyzedOperation(OrderFinder.userId().eq(USER_ID)), null, null, 0, true, 1, false);
+    }
+
+    private void readAll(Cursor cursor)
+    {
+        IntHashSet orderIds = new IntHashSet();
+        try
+        {
+            while (cursor.hasNext())
+            {
+                assertTrue(orderIds.add(((Order) cursor.next()).getOrderId()));
+            }
+        }
+        finally
+        {
+            cursor.close();
+        }
+        assertEquals(ORDER_COUNT, orderIds.size());
+        for (int i = 0; i < ORDER_COUNT; i++)
+        {
+            assertTrue(orderIds.contains(FIRST_ORDER_ID + i));
+        }
+    }
+
+    public void testPrefetchFillsTheCreditWindow() throws Exception
+    {
+        Cursor cursor = findCursor(false, 0);
+        Thread.sleep(1000); // let the server read ahead
+        readAll(cursor);
+        assertTrue(this.recorder.batchedContinues > 0);
+        assertEquals(0, this.recorder.singleContinues);
+        assertTrue(this.recorder.largestResult > 1000);
+        assertTrue(this.recorder.largestResult <= RemoteCursor.CREDIT_WINDOW * 1000);
+        assertFalse(this.recorder.closedWhileContinuing);
+    }
+
+    public void testCloseWaitsForPendingPrefetch() throws Exception
+    {
+        Cursor cursor = findCursor(false, 500);
+        for (int i = 0; i < 1001; i++)
+        {
+            assertTrue(cursor.hasNext());
+            cursor.next();
+        }
+        // reading past the first batch has started a prefetch, which is still delayed
+        cursor.close();
+        assertTrue(this.recorder.batchedContinues > 1);
+        assertEquals(1, this.recorder.closes);
+        assertFalse(this.recorder.closedWhileContinuing);
+    }
+
+    public void testOlderServerFallsBackToSingleBatches() throws Exception
+    {
+        Cursor cursor = findCursor(true, 0);
+        readAll(cursor);
+        assertEquals(1, this.recorder.batchedContinues);
+        assertTrue(this.recorder.singleContinues > 0);
+        assertFalse(this.recorder.closedWhileContinuing);
+    }
+
+    public void testTransientFailureKeepsProbing() throws Exception
+    {
+        RemoteMithraObjectPersister persister = createPersister(false, 0);
+        this.recorder.transientFailures = 1;
+        Cursor cursor = findCursor(persister);
+        try
+        {
+            while (cursor.hasNext())
+            {
+                cursor.next();
+            }
+            fail("the failed probe should have reached the caller");
+        }
+        catch (PspRuntimeException e)
+        {
+            // expected
+        }
+        finally
+        {
+            cursor.close();
+        }
+        readAll(findCursor(persister));
+        assertTrue(this.recorder.batchedContinues > 2);
+        assertEquals(0, this.recorder.singleContinues);
+    }
+
+    private static class ContinueRecorder implements InvocationHandler
+    {
+        private final RemoteMithraService service;
+        private final boolean olderServer;
+        private final long continueDelay;
+        private volatile int batchedContinues;
+        private volatile int singleContinues;
+        private volatile int closes;
+        private volatile int largestResult;
+        private volatile boolean closedWhileContinuing;
+        private volatile int transientFailures;
+        private int continuing;
+
+        private ContinueRecorder(RemoteMithraService service, boolean olderServer, long continueDelay)
+        {
+            this.service = service;
+            this.olderServer = olderServer;
+            this.continueDelay = continueDelay;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            boolean continueCursor = method.getName().equals("continueCursor");
+            if (continueCursor)
+            {
+                if (args.length == 2)
+                {
+                    batchedContinues++;
+                    if (olderServer)
+                    {
+                        throw new PspRuntimeException("Could not invoke remote method continueCursor",
+                                new PspRuntimeException("Server error (500).\nNo server method matching:continueCursor"));
+                    }
+                    if (transientFailures > 0)
+                    {
+                        transientFailures--;
+                        throw new PspRuntimeException("Could not reach server");
+                    }
+                }
+                else
+                {
+                    singleContinues++;
+                }
+                synchronized (this)
+                {
+                    continuing++;
+                }
+            }
+            else if (method.getName().equals("closeCursor"))
+            {
+                closes++;
+                synchronized (this)
+                {
+                    if (continuing > 0)
+                    {
+                        closedWhileContinuing = true;
+                    }
+                }
+            }
+            try
+            {
+                if (continueCursor && continueDelay > 0)
+                {
+                    Thread.sleep(continueDelay);
+                }
+                Object result = method.invoke(service, args);
+                if (result instanceof RemoteContinuedCursorResult)
+                {
+                    largestResult = Math.max(largestResult, ((RemoteContinuedCursorResult) result).getResult().size());
+                }
+                return result;
+            }
+            catch (InvocationTargetException e)
+            {
+                throw e.getTargetException();
+            }
+            finally
+            {
+                if (continueCursor)
+                {
+                    synchronized (this)
+                    {
+                        continuing--;
+                    }
+                }
+            }
+        }
+    }
+}
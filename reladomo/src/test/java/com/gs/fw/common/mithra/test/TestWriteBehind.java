@@ -0,0 +1,405 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.test.domain.OrderWithExtraColumn;
+import com.gs.fw.common.mithra.test.domain.OrderWithExtraColumnFinder;
+import com.gs.fw.common.mithra.test.domain.TinyBalanceFinder;
+import com.gs.fw.common.mithra.transaction.WriteBehindWriter;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+
+public class TestWriteBehind extends MithraTestAbstract
+{
+    private static final long FLUSH_INTERVAL = 1000;
+
+    private MithraTestResource writeBehindTestResource;
+    private File journalDirectory;
+    private WriteBehindWriter writer;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+
+        // the shared test data has no orders with an extra column, so this test loads its own
+        this.writeBehindTestResource = buildMithraTestResource();
+        this.writeBehindTestResource.setRestrictedClassList(getRestrictedClassList());
+        ConnectionManagerForTests connectionManager = ConnectionManagerForTests.getInstance();
+        connectionManager.setDefaultSource("A");
+        connectionManager.setDatabaseTimeZone(this.getDatabaseTimeZone());
+        connectionManager.setDatabaseType(this.writeBehindTestResource.getDatabaseType());
+        this.writeBehindTestResource.createSingleDatabase(connectionManager, "A", MITHRA_TEST_DATA_FILE_PATH + "testWriteBehind.txt");
+        this.writeBehindTestResource.setTestConnectionsOnTearDown(true);
+        this.writeBehindTestResource.setUp();
+
+        this.journalDirectory = new File(System.getProperty("java.io.tmpdir"), "mithraWriteBehindTest");
+        this.deleteJournal();
+        if (getPortal().isFullyCached())
+        {
+            this.writer = this.startWriter();
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        if (this.writer != null)
+        {
+            this.writer.shutdown();
+            getPortal().setWriteBehindWriter(null);
+        }
+        this.deleteJournal();
+        super.tearDown();
+    }
+
+    public void testInsertIsWrittenInTheBackground() throws Exception
+    {
+        if (this.writer == null) return;
+        insertOrders(100, 1);
+        assertNotNull(OrderWithExtraColumnFinder.findOne(OrderWithExtraColumnFinder.orderId().eq(100)));
+        assertTrue(this.writer.getLagInMilliseconds() >= 0);
+
+        assertTrue(this.writer.waitUntilFlushed(10000));
+        assertEquals("order 100", findDescriptionInDatabase(100));
+        assertEquals(0, this.writer.getPendingOperationCount());
+        assertEquals(0, this.writer.getLagInMilliseconds());
+        assertEquals(1, this.writer.getFlushCount());
+        assertEquals(1, this.writer.getFlushedOperationCount());
+        assertEquals(0, this.writer.getFailedFlushCount());
+    }
+
+    public void testTransactionsAreWrittenTogether() throws Exception
+    {
+        if (this.writer == null) return;
+        insertOrders(200, 5);
+        for (int i = 0; i < 5; i++)
+        {
+            // the object is found in the cache, even though the database doesn't have it yet
+            updateDescription(200 + i, "first update " + i);
+        }
+        updateDescription(200, "second update");
+        assertTrue(this.writer.waitUntilFlushed(10000));
+        assertEquals(1, this.writer.getFlushCount());
+        assertEquals(11, this.writer.getFlushedOperationCount());
+        assertEquals("second update", findDescriptionInDatabase(200));
+        for (int i = 1; i < 5; i++)
+        {
+            assertEquals("first update " + i, findDescriptionInDatabase(200 + i));
+        }
+
+        for (int i = 0; i < 5; i++)
+        {
+            updateDescription(200 + i, "third update " + i);
+        }
+        assertTrue(this.writer.waitUntilFlushed(10000));
+        for (int i = 0; i < 5; i++)
+        {
+            assertEquals("third update " + i, findDescriptionInDatabase(200 + i));
+        }
+    }
+
+    public void testDelete() throws Exception
+    {
+        if (this.writer == null) return;
+        insertOrders(300, 2);
+        assertTrue(this.writer.waitUntilFlushed(10000));
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderWithExtraColumnFinder.findOne(OrderWithExtraColumnFinder.orderId().eq(300)).delete();
+                return null;
+            }
+        });
+        insertOrders(302, 1);
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderWithExtraColumnFinder.findOne(OrderWithExtraColumnFinder.orderId().eq(302)).delete();
+                return null;
+            }
+        });
+        assertNull(OrderWithExtraColumnFinder.findOne(OrderWithExtraColumnFinder.orderId().eq(300)));
+        assertTrue(this.writer.waitUntilFlushed(10000));
+        assertNull(findDescriptionInDatabase(300));
+        assertEquals("order 301", findDescriptionInDatabase(301));
+        assertNull(findDescriptionInDatabase(302));
+    }
+
+    public void testRolledBackTransactionIsNotWritten() throws Exception
+    {
+        if (this.writer == null) return;
+        try
+        {
+            MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+            {
+                public Object executeTransaction(MithraTransaction tx) throws Throwable
+                {
+                    createOrder(400).insert();
+                    tx.executeBufferedOperations();
+                    throw new IllegalStateException("roll back");
+                }
+            }, 0);
+            fail("the transaction must fail");
+        }
+        catch (IllegalStateException e)
+        {
+            // expected
+        }
+        assertEquals(0, this.writer.getPendingTransactionCount());
+        assertNull(OrderWithExtraColumnFinder.findOne(OrderWithExtraColumnFinder.orderId().eq(400)));
+        assertNull(findDescriptionInDatabase(400));
+    }
+
+    public void testDeleteAllIsNotSupported()
+    {
+        if (this.writer == null) return;
+        try
+        {
+            MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+            {
+                public Object executeTransaction(MithraTransaction tx) throws Throwable
+                {
+                    OrderWithExtraColumnFinder.findMany(OrderWithExtraColumnFinder.orderId().greaterThan(0)).deleteAll();
+                    return null;
+                }
+            }, 0);
+            fail("deleteAll must not be allowed");
+        }
+        catch (MithraBusinessException e)
+        {
+            // expected
+        }
+    }
+
+    public void testJournalIsReplayedOnStart() throws Exception
+    {
+        if (this.writer == null) return;
+        insertOrders(500, 2);
+        updateDescription(500, "updated");
+        // stop the writer the way a crash would, before it gets to write anything
+        this.stopWriterThread();
+        this.writer.shutdown();
+        assertNull(findDescriptionInDatabase(500));
+        byte[] journal = readJournal();
+        assertTrue(journal.length > 0);
+
+        this.writer = this.startWriter();
+        assertEquals("updated", findDescriptionInDatabase(500));
+        assertEquals("order 501", findDescriptionInDatabase(501));
+
+        // a journal that was already written, for example because the JVM stopped before trimming it, is harmless
+        this.writer.shutdown();
+        writeJournal(journal);
+        this.writer = this.startWriter();
+        assertEquals("updated", findDescriptionInDatabase(500));
+        assertEquals("order 501", findDescriptionInDatabase(501));
+    }
+
+    public void testTransactionFailsWhenItCannotBeJournaled() throws Exception
+    {
+        if (this.writer == null) return;
+        this.writer.shutdown();
+        try
+        {
+            insertOrders(600, 1);
+            fail("the transaction must fail");
+        }
+        catch (MithraBusinessException e)
+        {
+            // expected
+        }
+        assertNull(OrderWithExtraColumnFinder.findOne(OrderWithExtraColumnFinder.orderId().eq(600)));
+    }
+
+    public void testJournalCanOnlyBeUsedOnce()
+    {
+        if (this.writer == null) return;
+        try
+        {
+            new WriteBehindWriter(getPortal(), this.journalDirectory);
+            fail("the journal is already in use");
+        }
+        catch (MithraBusinessException e)
+        {
+            // expected
+        }
+    }
+
+    public void testUnsupportedClassIsRejected()
+    {
+        try
+        {
+            new WriteBehindWriter(TinyBalanceFinder.getMithraObjectPortal(), this.journalDirectory);
+            fail("dated classes can't be written behind");
+        }
+        catch (MithraBusinessException e)
+        {
+            // expected
+        }
+    }
+
+    private WriteBehindWriter startWriter()
+    {
+        WriteBehindWriter writeBehindWriter = new WriteBehindWriter(getPortal(), this.journalDirectory, FLUSH_INTERVAL, 1000);
+        writeBehindWriter.start();
+        getPortal().setWriteBehindWriter(writeBehindWriter);
+        return writeBehindWriter;
+    }
+
+    private void stopWriterThread() throws InterruptedException
+    {
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+        {
+            if (thread.getName().equals("Mithra Write Behind " + getPortal().getBusinessClassName()))
+            {
+                thread.interrupt();
+                thread.join();
+            }
+        }
+    }
+
+    private File getJournalFile()
+    {
+        return new File(this.journalDirectory, getPortal().getBusinessClassName() + ".wbj");
+    }
+
+    private byte[] readJournal() throws IOException
+    {
+        File file = this.getJournalFile();
+        byte[] result = new byte[(int) file.length()];
+        FileInputStream in = new FileInputStream(file);
+        try
+        {
+            int read = 0;
+            while (read < result.length)
+            {
+                read += in.read(result, read, result.length - read);
+            }
+        }
+        finally
+        {
+            in.close();
+        }
+        return result;
+    }
+
+    private void writeJournal(byte[] journal) throws IOException
+    {
+        FileOutputStream out = new FileOutputStream(this.getJournalFile());
+        try
+        {
+            out.write(journal);
+        }
+        finally
+        {
+            out.close();
+        }
+    }
+
+    private void deleteJournal()
+    {
+        File[] files = this.journalDirectory.listFiles();
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                file.delete();
+            }
+        }
+    }
+
+    private String findDescriptionInDatabase(int orderId) throws SQLException
+    {
+        Connection con = this.getConnection();
+        try
+        {
+            PreparedStatement ps = con.prepareStatement("select DESCRIPTION from APP.ORDERS_EXTRA_COLUMN where ORDER_ID = ?");
+            ps.setInt(1, orderId);
+            ResultSet rs = ps.executeQuery();
+            String result = rs.next() ? rs.getString(1) : null;
+            rs.close();
+            ps.close();
+            return result;
+        }
+        finally
+        {
+            con.close();
+        }
+    }
+
+    private static MithraObjectPortal getPortal()
+    {
+        return OrderWithExtraColumnFinder.getMithraObjectPortal();
+    }
+
+    private static void insertOrders(final int firstOrderId, final int count)
+    {
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    createOrder(firstOrderId + i).insert();
+                }
+                return null;
+            }
+        });
+    }
+
+    private static void updateDescription(final int orderId, final String description)
+    {
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand<Object>()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderWithExtraColumnFinder.findOne(OrderWithExtraColumnFinder.orderId().eq(orderId)).setDescription(description);
+                return null;
+            }
+        });
+    }
+
+    private static OrderWithExtraColumn createOrder(int orderId)
+    {
+        OrderWithExtraColumn order = new OrderWithExtraColumn();
+        order.setOrderId(orderId);
+        order.setOrderDate(new Timestamp(System.currentTimeMillis()));
+        order.setUserId(1);
+        order.setDescription("order " + orderId);
+        order.setState("In-Progress");
+        order.setTrackingId(String.valueOf(orderId));
+        order.setExtraColumn("extra");
+        return order;
+    }
+}
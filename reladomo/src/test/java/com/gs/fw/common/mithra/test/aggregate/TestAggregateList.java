@@ -46,6 +46,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -121,6 +122,20 @@ public class TestAggregateList extends MithraTestAbstract
         });
     }
 
+    public void testAggregateAsync() throws Exception
+    {
+        AggregateList list = new AggregateList(SaleFinder.all());
+        list.addAggregateAttribute("count", SaleFinder.saleId().count());
+        list.addAggregateAttribute("minSaleId", SaleFinder.saleId().min());
+        CompletableFuture<AggregateList> future = list.aggregateAsync();
+        assertSame(list, future.get());
+        assertEquals(1, list.size());
+        assertEquals(SaleFinder.findMany(SaleFinder.all()).size(), list.get(0).getAttributeAsInt("count"));
+        assertEquals(1, list.get(0).getAttributeAsInt("minSaleId"));
+
+        assertTrue(list.aggregateAsync().isDone());
+    }
+
     private void checkLeastId(int expected)
     {
         AggregateList list = new AggregateList(SaleFinder.activeBoolean().eq(true));
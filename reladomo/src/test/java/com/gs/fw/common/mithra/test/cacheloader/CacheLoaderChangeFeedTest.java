@@ -0,0 +1,144 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test.cacheloader;
+
+
+import com.gs.fw.common.mithra.cacheloader.CacheLoaderManagerImpl;
+import com.gs.fw.common.mithra.cacheloader.CacheLoaderMonitor;
+import com.gs.fw.common.mithra.cacheloader.RefreshInterval;
+import com.gs.fw.common.mithra.test.ConnectionManagerForTests;
+import com.gs.fw.common.mithra.test.MithraTestResource;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderItemFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import junit.framework.TestCase;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+import java.io.ByteArrayInputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+public class CacheLoaderChangeFeedTest extends TestCase
+{
+    // dependent loaders are attached per business date, which the non milestoned loaders otherwise ignore
+    private static final List<Timestamp> BUSINESS_DATES = FastList.newListWith(Timestamp.valueOf("2010-10-30 23:59:00"));
+    private static final Timestamp INITIAL_LOAD_TIME = new Timestamp(System.currentTimeMillis() - 120 * 1000);
+
+    private static final Timestamp T1 = Timestamp.valueOf("2010-01-03 02:51:00.0");
+    private static final Timestamp T2 = Timestamp.valueOf("2010-01-03 03:01:00.0");
+    private static final Timestamp T3 = Timestamp.valueOf("2010-01-03 03:11:00.0");
+
+    private static final String CHANGE_LOG_CONFIG =
+            "<CacheLoader defaultTopLevelLoaderFactory=\"com.gs.fw.common.mithra.cacheloader.NonMilestonedTopLevelLoaderFactory\"\n" +
+            "             defaultDependentLoaderHelperFactory=\"com.gs.fw.common.mithra.cacheloader.NonMilestonedTopLevelLoaderFactory\">\n" +
+            "        <TopLevelLoader classToLoad=\"com.gs.fw.common.mithra.test.domain.Order\">\n" +
+            "            <Param name=\"changeLogClass\" value=\"com.gs.fw.common.mithra.test.domain.OrderStatus\"/>\n" +
+            "            <Param name=\"changeLogTimeAttribute\" value=\"lastUpdateTime\"/>\n" +
+            "        </TopLevelLoader>\n" +
+            "        <DependentLoader relationship=\"com.gs.fw.common.mithra.test.domain.Order.items\"/>\n" +
+            "</CacheLoader>";
+
+    private MithraTestResource mithraTestResource;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        this.mithraTestResource = new MithraTestResource("MithraCacheTestChangeFeedConfig.xml");
+        ConnectionManagerForTests connectionManager = ConnectionManagerForTests.getInstance();
+        connectionManager.setDefaultSource("changefeed");
+        this.mithraTestResource.createSingleDatabase(connectionManager, "changefeed", "testdata/cacheloader/CacheLoaderTest_ChangeFeed.txt");
+        this.mithraTestResource.setUp();
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        this.mithraTestResource.tearDown();
+        this.mithraTestResource = null;
+        super.tearDown();
+    }
+
+    public void testRefreshAppliesOnlyLoggedChanges() throws SQLException
+    {
+        CacheLoaderManagerImpl cacheLoaderManager = new CacheLoaderManagerImpl();
+        cacheLoaderManager.loadConfiguration(new ByteArrayInputStream(CHANGE_LOG_CONFIG.getBytes()));
+        cacheLoaderManager.runInitialLoad(BUSINESS_DATES, INITIAL_LOAD_TIME, new CacheLoaderMonitor());
+
+        assertOrderIds(1, 2, 3);
+        assertEquals(2, OrderItemFinder.findMany(OrderItemFinder.all()).size());
+        assertEquals(0, OrderItemFinder.findMany(OrderItemFinder.orderId().eq(4)).size());
+        Order first = OrderFinder.findOne(OrderFinder.orderId().eq(1));
+
+        executeUpdate("update ORDERS set DESCRIPTION = 'changed' where ORDER_ID = 1");
+        executeUpdate("update ORDER_STATUS set LAST_UPDATE_TIME = ? where ORDER_ID = 1", T2);
+        executeUpdate("insert into ORDERS (ORDER_ID, ORDER_DATE, USER_ID, DESCRIPTION, TRACKING_ID) values (4, ?, 1, 'Fourth order', '126')", T2);
+        executeUpdate("insert into ORDER_STATUS (ORDER_ID, STATUS, LAST_USER, LAST_UPDATE_TIME) values (4, 10, 'Fred', ?)", T2);
+        executeUpdate("delete from ORDERS where ORDER_ID = 3");
+        executeUpdate("insert into ORDER_STATUS (ORDER_ID, STATUS, LAST_USER, LAST_UPDATE_TIME) values (3, 10, 'Fred', ?)", T2);
+        executeUpdate("update ORDERS set DESCRIPTION = 'not logged' where ORDER_ID = 2");
+
+        CacheLoaderMonitor monitor = new CacheLoaderMonitor();
+        cacheLoaderManager.runRefresh(BUSINESS_DATES, new RefreshInterval(T1, T3), monitor);
+
+        assertOrderIds(1, 2, 4);
+        assertSame(first, OrderFinder.findOne(OrderFinder.orderId().eq(1)));
+        assertEquals("changed", first.getDescription());
+        assertEquals("Second order", OrderFinder.findOne(OrderFinder.orderId().eq(2)).getDescription());
+        // the dependent loader picks up the items of the new order
+        assertEquals(1, OrderItemFinder.findMany(OrderItemFinder.orderId().eq(4)).size());
+        assertEquals(1, monitor.getLoadingTaskStates().size());
+        assertEquals(2, monitor.getLoadingTaskStates().get(0).getLoadedSize());
+
+        cacheLoaderManager.runRefresh(BUSINESS_DATES, new RefreshInterval(T3, new Timestamp(System.currentTimeMillis())), new CacheLoaderMonitor());
+        assertOrderIds(1, 2, 4);
+    }
+
+    private static void assertOrderIds(int... expected)
+    {
+        OrderList orders = OrderFinder.findMany(OrderFinder.all());
+        orders.addOrderBy(OrderFinder.orderId().ascendingOrderBy());
+        assertEquals(expected.length, orders.size());
+        for (int i = 0; i < expected.length; i++)
+        {
+            assertEquals(expected[i], orders.get(i).getOrderId());
+        }
+    }
+
+    private static void executeUpdate(String sql, Timestamp... parameters) throws SQLException
+    {
+        Connection connection = ConnectionManagerForTests.getInstance().getConnection();
+        try
+        {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            for (int i = 0; i < parameters.length; i++)
+            {
+                statement.setTimestamp(i + 1, parameters[i]);
+            }
+            statement.executeUpdate();
+            statement.close();
+        }
+        finally
+        {
+            connection.close();
+        }
+    }
+}
@@ -147,10 +147,22 @@ public class CacheLoaderEngineTest extends TestCase
     }
 
     public void testCircularDependencyLoad()
+    {
+        this.assertCircularDependencyLoad(new ConfigValues(1, 1, false, 2, 45, 1200));
+    }
+
+    public void testCircularDependencyLoadWithWorkStealing()
+    {
+        CacheLoaderEngine engine = this.assertCircularDependencyLoad(new ConfigValues(1, 1, false, 2, 45, 1200, true));
+        assertNotNull(engine.getWorkStealingScheduler());
+        assertTrue(engine.getWorkStealingScheduler().getWorkerCount() > 0);
+    }
+
+    private CacheLoaderEngine assertCircularDependencyLoad(ConfigValues configValues)
     {
         CacheLoaderContext context = new CacheLoaderContext(new CacheLoaderManagerImpl(), FastList.newListWith(BUSINESS_DATE));
         CacheLoaderEngine engine = context.getEngine();
-        engine.setConfigValues(new ConfigValues(1, 1, false, 2, 45, 1200));
+        engine.setConfigValues(configValues);
 
         Attribute[] productKeyAttribute = {LewProductFinder.instrumentId()};
         Operation productOperation = LewProductFinder.region().eq(NYK_REGION).and(LewProductFinder.businessDate().eq(BUSINESS_DATE)).and(LewProductFinder.processingDate().equalsEdgePoint());
@@ -205,6 +217,7 @@ public class CacheLoaderEngineTest extends TestCase
 
         assertEquals("contracts", 3, LewContractFinder.findMany(LewContractFinder.businessDate().equalsEdgePoint().and(LewContractFinder.processingDate().equalsEdgePoint())).size());
         assertEquals("dependent products", 6, LewProductFinder.findMany(LewProductFinder.businessDate().equalsEdgePoint().and(LewProductFinder.processingDate().equalsEdgePoint())).size());
+        return engine;
     }
 
     public void testCombinedDependencyLoad()
@@ -17,6 +17,7 @@
 
 package com.gs.fw.common.mithra.test.cacheloader;
 
+import com.gs.fw.common.mithra.MithraBusinessException;
 import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.cacheloader.CacheLoaderManagerImpl;
 import com.gs.fw.common.mithra.cacheloader.CacheLoaderMonitor;
@@ -29,13 +30,17 @@ import com.gs.fw.common.mithra.test.domain.ProjitoFinder;
 import com.gs.fw.common.mithra.test.domain.ProjitoMeasureOfSuccessFinder;
 import com.gs.fw.common.mithra.test.domain.ProjitoMembershipFinder;
 import com.gs.fw.common.mithra.test.domain.ProjitoVersionFinder;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
 import junit.framework.TestCase;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
 import java.sql.Timestamp;
 import java.util.List;
 
@@ -116,6 +121,103 @@ public class CacheLoaderManagerProcessingOnlyTest extends TestCase
         assertEquals(4, ProjitoMeasureOfSuccessFinder.findMany(ProjitoMeasureOfSuccessFinder.processingDate().equalsEdgePoint()).size());
     }
 
+    public void testWarmStartFromSnapshot() throws Exception
+    {
+        File snapshotDirectory = Files.createTempDirectory("cacheSnapshot").toFile();
+        try
+        {
+            CacheLoaderManagerImpl cacheLoaderManager = new CacheLoaderManagerImpl();
+            cacheLoaderManager.loadConfiguration(createStringInputStream(PROCESSING_ONLY_TEST_CONFIG));
+            cacheLoaderManager.runRefresh(Lists.mutable.<Timestamp>of(), new RefreshInterval(T1, T2), new CacheLoaderMonitor());
+            cacheLoaderManager.writeCacheSnapshots(snapshotDirectory);
+
+            File projitoSnapshot = new File(snapshotDirectory, "com.gs.fw.common.mithra.test.domain.Projito" + CacheLoaderManagerImpl.CACHE_SNAPSHOT_SUFFIX);
+            assertTrue(projitoSnapshot.exists());
+            assertEquals(T2.getTime(), new MithraRuntimeCacheController(ProjitoFinder.class).readCacheSnapshot(projitoSnapshot));
+
+            clearCaches();
+            assertCacheEmpty();
+
+            CacheLoaderMonitor loaderMonitor = new CacheLoaderMonitor();
+            cacheLoaderManager.runWarmStart(Lists.mutable.<Timestamp>of(), snapshotDirectory, T3, loaderMonitor);
+
+            assertNull(loaderMonitor.getException());
+            assertListContainsExactly(ProjitoFinder.findMany(ProjitoFinder.processingDate().equalsEdgePoint()), ProjitoFinder.id(), 1L, 2L, 3L);
+            assertEquals(4, ProjitoMeasureOfSuccessFinder.findMany(ProjitoMeasureOfSuccessFinder.processingDate().equalsEdgePoint()).size());
+            assertEquals(T3.getTime(), ProjitoFinder.getMithraObjectPortal().getLatestRefreshTime());
+        }
+        finally
+        {
+            deleteDirectory(snapshotDirectory);
+        }
+    }
+
+    public void testWarmStartWithCorruptSnapshot() throws Exception
+    {
+        File snapshotDirectory = Files.createTempDirectory("cacheSnapshot").toFile();
+        try
+        {
+            CacheLoaderManagerImpl cacheLoaderManager = new CacheLoaderManagerImpl();
+            cacheLoaderManager.loadConfiguration(createStringInputStream(PROCESSING_ONLY_TEST_CONFIG));
+            cacheLoaderManager.runRefresh(Lists.mutable.<Timestamp>of(), new RefreshInterval(T1, T2), new CacheLoaderMonitor());
+            cacheLoaderManager.writeCacheSnapshots(snapshotDirectory);
+
+            File projitoSnapshot = new File(snapshotDirectory, "com.gs.fw.common.mithra.test.domain.Projito" + CacheLoaderManagerImpl.CACHE_SNAPSHOT_SUFFIX);
+            RandomAccessFile file = new RandomAccessFile(projitoSnapshot, "rw");
+            try
+            {
+                file.seek(file.length() - 10);
+                int b = file.read();
+                file.seek(file.length() - 10);
+                file.write(b ^ 0xFF);
+            }
+            finally
+            {
+                file.close();
+            }
+            try
+            {
+                new MithraRuntimeCacheController(ProjitoFinder.class).readCacheSnapshot(projitoSnapshot);
+                fail("expected a checksum failure");
+            }
+            catch (MithraBusinessException e)
+            {
+                assertTrue(e.getMessage().contains("checksum"));
+            }
+
+            clearCaches();
+            cacheLoaderManager.runWarmStart(Lists.mutable.<Timestamp>of(), snapshotDirectory, T3, new CacheLoaderMonitor());
+
+            assertListContainsExactly(ProjitoFinder.findMany(ProjitoFinder.processingDate().equalsEdgePoint()), ProjitoFinder.id(), 1L, 2L, 3L);
+            assertEquals(4, ProjitoMeasureOfSuccessFinder.findMany(ProjitoMeasureOfSuccessFinder.processingDate().equalsEdgePoint()).size());
+        }
+        finally
+        {
+            deleteDirectory(snapshotDirectory);
+        }
+    }
+
+    private static void clearCaches()
+    {
+        ProjitoFinder.getMithraObjectPortal().getCache().clear();
+        ProjitoFinder.clearQueryCache();
+        ProjitoMeasureOfSuccessFinder.getMithraObjectPortal().getCache().clear();
+        ProjitoMeasureOfSuccessFinder.clearQueryCache();
+    }
+
+    private static void deleteDirectory(File directory)
+    {
+        File[] files = directory.listFiles();
+        if (files != null)
+        {
+            for (File each : files)
+            {
+                each.delete();
+            }
+        }
+        directory.delete();
+    }
+
     private static void assertCacheEmpty()
     {
         assertEquals(0, ProjitoFinder.findMany(ProjitoFinder.all()).count());
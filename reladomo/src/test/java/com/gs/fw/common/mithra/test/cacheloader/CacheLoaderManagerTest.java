@@ -25,6 +25,7 @@ import com.gs.fw.common.mithra.cacheloader.AdditionalOperationBuilderWithPrerequ
 import com.gs.fw.common.mithra.cacheloader.BusinessDateMilestonedTopLevelLoaderFactory;
 import com.gs.fw.common.mithra.cacheloader.CacheLoaderManagerImpl;
 import com.gs.fw.common.mithra.cacheloader.CacheLoaderMonitor;
+import com.gs.fw.common.mithra.cacheloader.CacheLoaderProgress;
 import com.gs.fw.common.mithra.cacheloader.FullyMilestonedTopLevelLoaderFactory;
 import com.gs.fw.common.mithra.cacheloader.LoadingTaskThreadPoolMonitor;
 import com.gs.fw.common.mithra.cacheloader.RefreshInterval;
@@ -49,8 +50,10 @@ import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 
+import javax.management.ObjectName;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.List;
@@ -131,6 +134,48 @@ public class CacheLoaderManagerTest extends TestCase
         assertEquals("localhost:nystlew", threadPoolMonitors.get(0).getPoolName());
     }
 
+    public void testInitialLoadProgress() throws Exception
+    {
+        CacheLoaderManagerImpl cacheLoaderManager = new CacheLoaderManagerImpl();
+        cacheLoaderManager.loadConfiguration(createStringInputStream(NYK_TEST_CONFIG));
+        cacheLoaderManager.registerProgressMBean("com.gs.fw.common.mithra.test.cacheloader:type=CacheLoaderProgress");
+        CacheLoaderMonitor loaderMonitor = new CacheLoaderMonitor();
+        cacheLoaderManager.runInitialLoad(FastList.newListWith(BUSINESS_DATE), INITIAL_LOAD_TIME, loaderMonitor);
+
+        assertSame(cacheLoaderManager.getProgress(), loaderMonitor.getProgress());
+        CacheLoaderProgress.Snapshot snapshot = cacheLoaderManager.getProgress().snapshot();
+        assertTrue(snapshot.isFinished());
+        assertEquals(snapshot.getTaskCount(), snapshot.getFinishedTaskCount());
+        assertEquals(0, snapshot.getFailedTaskCount());
+        assertEquals(8, snapshot.getLoadedRows());
+        assertEquals(0, snapshot.getEstimatedRemainingMillis());
+        assertFalse(snapshot.getCriticalPath().isEmpty());
+
+        CacheLoaderProgress.ClassProgress contracts = snapshot.getClassProgress(LewContract.class.getName());
+        assertEquals(3, contracts.getRows());
+        assertTrue(contracts.getQueryNanos() > 0);
+        assertTrue(contracts.getFetchNanos() > 0);
+        assertTrue(contracts.getInflateNanos() > 0);
+        assertTrue(contracts.getIndexNanos() > 0);
+        assertEquals(5, snapshot.getClassProgress(LewTransaction.class.getName()).getRows());
+
+        String json = snapshot.toJson();
+        assertTrue(json, json.startsWith("{\"elapsedMillis\":"));
+        assertTrue(json, json.contains("\"className\":\"" + LewContract.class.getName() + "\""));
+        assertTrue(json, json.contains("\"pools\":[{\"name\":\"localhost:nystlew\""));
+
+        ObjectName name = new ObjectName("com.gs.fw.common.mithra.test.cacheloader:type=CacheLoaderProgress");
+        try
+        {
+            assertEquals(Long.valueOf(8), ManagementFactory.getPlatformMBeanServer().getAttribute(name, "LoadedRows"));
+            assertEquals(Boolean.FALSE, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Loading"));
+        }
+        finally
+        {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+
     public void testInitialLoadWithTwoDatesWithinRange()
     {
         assertCacheEmpty();
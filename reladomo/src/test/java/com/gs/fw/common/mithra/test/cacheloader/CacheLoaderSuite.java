@@ -31,6 +31,7 @@ public class CacheLoaderSuite extends TestSuite
         suite.addTestSuite(DateLoadClusterTest.class);
         suite.addTestSuite(CacheLoaderEngineTest.class);
         suite.addTestSuite(CacheLoaderManagerTest.class);
+        suite.addTestSuite(CacheLoaderChangeFeedTest.class);
         suite.addTestSuite(CacheLoaderManagerProcessingOnlyTest.class);
         suite.addTestSuite(CacheLoaderConfigTest.class);
         suite.addTestSuite(DependentSingleKeyIndexTest.class);
@@ -39,6 +40,7 @@ public class CacheLoaderSuite extends TestSuite
         suite.addTestSuite(BusinessDateFilterTest.class);
         suite.addTestSuite(CacheIndexBasedFilterTest.class);
         suite.addTestSuite(IOTaskThreadPoolWithCpuTaskConveyorTest.class);
+        suite.addTestSuite(WorkStealingLoadingSchedulerTest.class);
         suite.addTestSuite(ExternalQueueThreadExecutorTest.class);
 
         suite.addTestSuite(FullyMilestonedTopLevelLoaderFactoryTest.class);
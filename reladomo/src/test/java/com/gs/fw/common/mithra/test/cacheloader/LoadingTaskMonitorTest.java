@@ -18,6 +18,7 @@ package com.gs.fw.common.mithra.test.cacheloader;
 
 import com.gs.fw.common.mithra.cacheloader.*;
 import junit.framework.TestCase;
+import org.eclipse.collections.impl.list.mutable.FastList;
 
 
 public class LoadingTaskMonitorTest extends TestCase
@@ -34,16 +35,65 @@ public class LoadingTaskMonitorTest extends TestCase
         assertTrue(monitor.getFinishTime() - monitor.getStartTime() >= 0);
     }
 
+    public void testProgressEstimatesCriticalPath()
+    {
+        MockCacheLoaderEngine engine = new MockCacheLoaderEngine();
+        engine.setConfigValues(new ConfigValues(1, 1, false, 10, 45.0, 1200));
+        LoadingTaskRunner trades = new LoadingTaskRunner(engine, "t3000", new TestLoadingTask("com.gs.domain.Trade", 20), LoadingTaskRunner.State.QUEUED);
+        LoadingTaskRunner positions = new LoadingTaskRunner(engine, "t3000", new TestLoadingTask("com.gs.domain.Position", 0), LoadingTaskRunner.State.WAITING_FOR_PREREQUISITES);
+        positions.addPrerequisite(trades);
+        engine.addTask(trades);
+        engine.addTask(positions);
+        trades.run();
+
+        CacheLoaderProgress.Snapshot snapshot = engine.getProgress().snapshot();
+        assertEquals(2, snapshot.getTaskCount());
+        assertEquals(1, snapshot.getFinishedTaskCount());
+        assertEquals(1, snapshot.getWaitingTaskCount());
+        assertEquals(10, snapshot.getLoadedRows());
+        // the position task has no history, so it's expected to take as long as the average task
+        assertEquals(FastList.newListWith("com.gs.domain.Trade", "com.gs.domain.Position"), snapshot.getCriticalPath());
+        assertTrue(snapshot.getEstimatedRemainingMillis() >= 15);
+        String json = snapshot.toJson();
+        assertTrue(json, json.contains("\"criticalPath\":[\"com.gs.domain.Trade\",\"com.gs.domain.Position\"]"));
+    }
+
     private class TestLoadingTask implements LoadingTask
     {
+        private final String className;
+        private final long loadMillis;
+
+        private TestLoadingTask()
+        {
+            this("com.gs.domain.Trade", 0);
+        }
+
+        private TestLoadingTask(String className, long loadMillis)
+        {
+            this.className = className;
+            this.loadMillis = loadMillis;
+        }
+
         public int load()
         {
-            return 0;
+            if (this.loadMillis == 0)
+            {
+                return 0;
+            }
+            try
+            {
+                Thread.sleep(this.loadMillis);
+            }
+            catch (InterruptedException e)
+            {
+                // ignore
+            }
+            return 10;
         }
 
         public String getClassName()
         {
-            return "com.gs.domain.Trade";
+            return this.className;
         }
 
         public Object getSourceAttribute()
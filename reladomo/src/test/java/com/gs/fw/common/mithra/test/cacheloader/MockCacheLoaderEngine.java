@@ -18,6 +18,7 @@ package com.gs.fw.common.mithra.test.cacheloader;
 
 import com.gs.fw.common.mithra.cacheloader.CacheLoaderEngine;
 import com.gs.fw.common.mithra.cacheloader.DependentKeyIndex;
+import com.gs.fw.common.mithra.cacheloader.LoadingTaskRunner;
 
 
 class MockCacheLoaderEngine extends CacheLoaderEngine
@@ -26,4 +27,9 @@ class MockCacheLoaderEngine extends CacheLoaderEngine
     {
 
     }
+
+    public void addTask(LoadingTaskRunner loadingTaskRunner)
+    {
+        this.addTaskToLoad(loadingTaskRunner);
+    }
 }
@@ -0,0 +1,210 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test.cacheloader;
+
+
+import com.gs.fw.common.mithra.cacheloader.ExternalQueueThreadExecutor;
+import com.gs.fw.common.mithra.cacheloader.IOTaskThreadPoolWithCpuTaskConveyor;
+import com.gs.fw.common.mithra.cacheloader.LoadingTaskThreadPool;
+import com.gs.fw.common.mithra.cacheloader.WorkStealingLoadingScheduler;
+import junit.framework.TestCase;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WorkStealingLoadingSchedulerTest extends TestCase
+{
+    private volatile Throwable lastException = null;
+
+    public void testCpuTasksFeedIoTasksAcrossPools() throws InterruptedException
+    {
+        WorkStealingLoadingScheduler scheduler = new WorkStealingLoadingScheduler(new ExceptionHandler(), this.getName());
+        int taskCount = 500;
+        CountDownLatch completed = new CountDownLatch(2 * taskCount);
+        SummingBuilder firstBuilder = new SummingBuilder(completed);
+        SummingBuilder secondBuilder = new SummingBuilder(completed);
+        LoadingTaskThreadPool first = scheduler.addPool("first", 2, firstBuilder);
+        LoadingTaskThreadPool second = scheduler.addPool("second", 3, secondBuilder);
+
+        first.startThreads();
+        second.startThreads();
+        assertEquals(2 + 3 + 2, scheduler.getWorkerCount());
+        for (int i = 0; i < taskCount; i++)
+        {
+            first.addToCPUQueue(new CpuTask(firstBuilder));
+            second.addToCPUQueue(new CpuTask(secondBuilder));
+        }
+
+        assertTrue(completed.await(30, TimeUnit.SECONDS));
+        assertNull(this.lastException);
+        assertFalse("CPU tasks of one pool ran concurrently", firstBuilder.overlapped || secondBuilder.overlapped);
+
+        scheduler.shutdown();
+        assertSchedulerStopped(scheduler);
+    }
+
+    public void testIdleWorkersStealWithinConcurrencyLimit() throws InterruptedException
+    {
+        WorkStealingLoadingScheduler scheduler = new WorkStealingLoadingScheduler(new ExceptionHandler(), this.getName());
+        LoadingTaskThreadPool idle = scheduler.addPool("idle", 1, new SummingBuilder(null));
+        LoadingTaskThreadPool busy = scheduler.addPool("busy", 4, new SummingBuilder(null));
+
+        int taskCount = 40;
+        CountDownLatch completed = new CountDownLatch(taskCount);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < taskCount; i++)
+        {
+            busy.addToIOQueue(new SlowIoTask(running, maxRunning, completed));
+        }
+        idle.startThreads();
+        busy.startThreads();
+
+        assertTrue(completed.await(30, TimeUnit.SECONDS));
+        assertNull(this.lastException);
+        assertEquals(4, maxRunning.get());
+        assertTrue(scheduler.getStolenTaskCount() > 0);
+
+        scheduler.shutdown();
+        assertSchedulerStopped(scheduler);
+    }
+
+    private void assertSchedulerStopped(WorkStealingLoadingScheduler scheduler) throws InterruptedException
+    {   // workers stop asynchronously. give them some time to finish.
+        for (int i = 0; i < 100; i++)
+        {
+            if (scheduler.isStopped()) return;
+            Thread.sleep(2);
+        }
+        fail("worker threads did not stop.");
+    }
+
+    private static class CpuTask implements Callable<Runnable>
+    {
+        private final SummingBuilder builder;
+
+        private CpuTask(SummingBuilder builder)
+        {
+            this.builder = builder;
+        }
+
+        @Override
+        public Runnable call()
+        {
+            this.builder.enter();
+            this.builder.pending++;
+            this.builder.exit();
+            return null;
+        }
+    }
+
+    private static class SummingBuilder implements IOTaskThreadPoolWithCpuTaskConveyor.Builder
+    {
+        private final CountDownLatch completed;
+        private final AtomicInteger inside = new AtomicInteger();
+        private volatile boolean overlapped;
+        private int pending;
+
+        private SummingBuilder(CountDownLatch completed)
+        {
+            this.completed = completed;
+        }
+
+        private void enter()
+        {
+            if (this.inside.incrementAndGet() > 1) this.overlapped = true;
+        }
+
+        private void exit()
+        {
+            this.inside.decrementAndGet();
+        }
+
+        @Override
+        public Runnable build()
+        {
+            this.enter();
+            try
+            {
+                if (this.pending == 0)
+                {
+                    return null;
+                }
+                final int n = this.pending;
+                this.pending = 0;
+                return new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        for (int i = 0; i < n; i++) completed.countDown();
+                    }
+                };
+            }
+            finally
+            {
+                this.exit();
+            }
+        }
+    }
+
+    private static class SlowIoTask implements Runnable
+    {
+        private final AtomicInteger running;
+        private final AtomicInteger maxRunning;
+        private final CountDownLatch completed;
+
+        private SlowIoTask(AtomicInteger running, AtomicInteger maxRunning, CountDownLatch completed)
+        {
+            this.running = running;
+            this.maxRunning = maxRunning;
+            this.completed = completed;
+        }
+
+        @Override
+        public void run()
+        {
+            int now = this.running.incrementAndGet();
+            int max;
+            while (now > (max = this.maxRunning.get()) && !this.maxRunning.compareAndSet(max, now))
+            {
+                // retry
+            }
+            try
+            {
+                Thread.sleep(20);
+            }
+            catch (InterruptedException e)
+            {
+                // ignore
+            }
+            this.running.decrementAndGet();
+            this.completed.countDown();
+        }
+    }
+
+    private class ExceptionHandler implements ExternalQueueThreadExecutor.ExceptionHandler
+    {
+        @Override
+        public void handleException(Runnable task, Throwable exception)
+        {
+            lastException = exception;
+        }
+    }
+}
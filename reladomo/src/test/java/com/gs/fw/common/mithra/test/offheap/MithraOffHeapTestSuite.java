@@ -29,6 +29,7 @@ public class MithraOffHeapTestSuite extends TestSuite
         suite.addTestSuite(TestOffHeapSemiUniqueDatedIndex.class);
         suite.addTestSuite(TestOffHeapNonUniqueIndex.class);
         suite.addTestSuite(TestOffHeapDataVersion.class);
+        suite.addTestSuite(TestOffHeapPartialDatedCache.class);
         return suite;
     }
 }
@@ -23,6 +23,7 @@ import com.gs.fw.common.mithra.cache.offheap.FastUnsafeOffHeapIntArrayStorage;
 import com.gs.fw.common.mithra.cache.offheap.FastUnsafeOffHeapIntList;
 import com.gs.fw.common.mithra.cache.offheap.FastUnsafeOffHeapLongList;
 import com.gs.fw.common.mithra.cache.offheap.FastUnsafeOffHeapMemoryInitialiser;
+import com.gs.fw.common.mithra.cache.offheap.MappedFileOffHeapMemoryAllocator;
 import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
 import com.gs.fw.common.mithra.test.domain.BitemporalOrderData;
 import com.gs.fw.common.mithra.test.domain.BitemporalOrderDatabaseObject;
@@ -37,6 +38,7 @@ import org.junit.Assert;
 import sun.misc.Unsafe;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.PrintStream;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
@@ -858,6 +860,44 @@ public class TestOffHeapDataStorage extends TestCase
         assertTrue(newMax < max);
     }
 
+    public void testMappedFileStorage() throws Exception
+    {
+        File directory = new File(System.getProperty("java.io.tmpdir"), "offHeapMappedFileTest" + System.nanoTime());
+        MappedFileOffHeapMemoryAllocator allocator = new MappedFileOffHeapMemoryAllocator(directory, "BitemporalOrder");
+        FastUnsafeOffHeapDataStorage mappedStorage = new FastUnsafeOffHeapDataStorage(BitemporalOrderData.OFF_HEAP_DATA_SIZE, "", null, allocator);
+        mappedStorage.setReadWriteLock(new ReadWriteLock());
+        BitemporalOrderData.BitemporalOrderDataOffHeap.zSetStorage(mappedStorage);
+        try
+        {
+            assertEquals(1, allocator.getMappedFileCount());
+            int count = 20000; // enough to grow the storage several times
+            BitemporalOrderData[] orders = new BitemporalOrderData[count];
+            for(int i=0;i<count;i++)
+            {
+                orders[i] = createOrder(i, i * 3);
+            }
+            for(int i=0;i<count;i++)
+            {
+                assertEquals(i, orders[i].getOrderId());
+                assertEquals(i * 3, orders[i].getUserId());
+            }
+            assertTrue(allocator.getMappedFileCount() >= 1);
+            int filesBeforeDestroy = allocator.getMappedFileCount();
+            mappedStorage.destroy();
+            assertEquals(filesBeforeDestroy - 1, allocator.getMappedFileCount());
+        }
+        finally
+        {
+            BitemporalOrderData.BitemporalOrderDataOffHeap.zSetStorage(dataStorage);
+            File[] files = directory.listFiles();
+            for(int i=0;files != null && i<files.length;i++)
+            {
+                files[i].deleteOnExit();
+            }
+            directory.deleteOnExit();
+        }
+    }
+
     private void gc() throws Exception
     {
         System.gc();
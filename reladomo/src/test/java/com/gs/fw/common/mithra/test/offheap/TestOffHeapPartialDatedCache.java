@@ -0,0 +1,163 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test.offheap;
+
+import com.gs.fw.common.mithra.cache.ReadWriteLock;
+import com.gs.fw.common.mithra.cache.offheap.FastUnsafeOffHeapDataStorage;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapPartialDatedCache;
+import com.gs.fw.common.mithra.test.domain.TinyBalance;
+import com.gs.fw.common.mithra.test.domain.TinyBalanceData;
+import com.gs.fw.common.mithra.test.domain.TinyBalanceDatabaseObject;
+import com.gs.fw.common.mithra.test.domain.TinyBalanceFinder;
+import com.gs.fw.common.mithra.util.StringPool;
+import junit.framework.TestCase;
+
+import java.sql.Timestamp;
+
+
+public class TestOffHeapPartialDatedCache extends TestCase
+{
+    private static final long GC_TIMEOUT = 10000;
+
+    private FastUnsafeOffHeapDataStorage dataStorage;
+    private Timestamp businessDate;
+    private Timestamp processingDate;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        StringPool.getInstance().enableOffHeapSupport();
+        businessDate = Timestamp.valueOf("2010-01-01 00:00:00");
+        processingDate = Timestamp.valueOf("2010-01-01 18:30:00");
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        super.tearDown();
+        if (dataStorage != null)
+        {
+            dataStorage.destroy();
+        }
+    }
+
+    private OffHeapPartialDatedCache createCache(int maxRetainedData)
+    {
+        dataStorage = new FastUnsafeOffHeapDataStorage(TinyBalanceData.OFF_HEAP_DATA_SIZE, "", null, maxRetainedData);
+        dataStorage.setReadWriteLock(new ReadWriteLock());
+        TinyBalanceData.TinyBalanceDataOffHeap.zSetStorage(dataStorage);
+        return new OffHeapPartialDatedCache(TinyBalanceFinder.getPrimaryKeyAttributes(), TinyBalanceFinder.getAsOfAttributes(),
+                new TinyBalanceDatabaseObject(), TinyBalanceFinder.getImmutableAttributes(), 0, 0, dataStorage);
+    }
+
+    private TinyBalanceData createOnHeapBalance(int balanceId)
+    {
+        TinyBalanceData data = TinyBalanceDatabaseObject.allocateOnHeapData();
+        data.setBalanceId(balanceId);
+        data.setAcmapCode("A");
+        data.setQuantity(balanceId * 10.0);
+        data.setBusinessDateFrom(businessDate);
+        data.setBusinessDateTo(TinyBalanceFinder.businessDate().getInfinityDate());
+        data.setProcessingDateFrom(processingDate);
+        data.setProcessingDateTo(TinyBalanceFinder.processingDate().getInfinityDate());
+        return data;
+    }
+
+    private TinyBalance getFromCache(OffHeapPartialDatedCache cache, int balanceId)
+    {
+        return (TinyBalance) cache.getObjectFromData(createOnHeapBalance(balanceId), new Timestamp[] { businessDate, processingDate });
+    }
+
+    private int getOffset(TinyBalance balance)
+    {
+        return ((MithraOffHeapDataObject) balance.zGetCurrentData()).zGetOffset();
+    }
+
+    private int allocateOffHeapBalance()
+    {
+        return ((MithraOffHeapDataObject) TinyBalanceDatabaseObject.allocateOffHeapData()).zGetOffset();
+    }
+
+    public void testDataIsCopiedOffHeap()
+    {
+        OffHeapPartialDatedCache cache = createCache(10);
+        TinyBalance balance = getFromCache(cache, 7);
+        assertTrue(balance.zGetCurrentData() instanceof MithraOffHeapDataObject);
+        assertEquals(7, balance.getBalanceId());
+        assertEquals("A", balance.getAcmapCode());
+        assertEquals(70.0, balance.getQuantity(), 0.0);
+        assertEquals(TinyBalanceData.OFF_HEAP_DATA_SIZE, dataStorage.getUsedSize());
+
+        assertSame(balance, getFromCache(cache, 7));
+        assertEquals(TinyBalanceData.OFF_HEAP_DATA_SIZE, dataStorage.getUsedSize());
+        assertTrue(cache.isPartialCache());
+    }
+
+    public void testUnreferencedDataIsEvictedDownToRetainedSize() throws Exception
+    {
+        OffHeapPartialDatedCache cache = createCache(10);
+        int highestOffset = 0;
+        for (int i = 0; i < 100; i++)
+        {
+            // business objects are held softly unless asked for without caching
+            TinyBalance balance = (TinyBalance) cache.getObjectFromDataWithoutCaching(createOnHeapBalance(i), new Timestamp[] { businessDate, processingDate });
+            highestOffset = Math.max(highestOffset, getOffset(balance));
+        }
+        assertEquals(100 * TinyBalanceData.OFF_HEAP_DATA_SIZE, dataStorage.getUsedSize());
+        long start = System.currentTimeMillis();
+        while (dataStorage.getUsedSize() > 10 * TinyBalanceData.OFF_HEAP_DATA_SIZE && System.currentTimeMillis() - start < GC_TIMEOUT)
+        {
+            System.gc();
+            Thread.sleep(10);
+            cache.evictCollectedReferences();
+        }
+        assertEquals(10 * TinyBalanceData.OFF_HEAP_DATA_SIZE, dataStorage.getUsedSize());
+        for (int i = 90; i < 100; i++)
+        {
+            assertEquals(1, cache.getDatedDataIgnoringDates(createOnHeapBalance(i)).size());
+        }
+
+        // freed slots are reused
+        assertTrue(getOffset(getFromCache(cache, 1000)) < highestOffset);
+    }
+
+    public void testAccessedDataGetsASecondChance() throws Exception
+    {
+        createCache(4);
+        int[] offsets = new int[5];
+        for (int i = 0; i < 4; i++)
+        {
+            offsets[i] = allocateOffHeapBalance();
+        }
+        dataStorage.markDataAccessed(offsets[0]);
+        offsets[4] = allocateOffHeapBalance();
+
+        long start = System.currentTimeMillis();
+        while (dataStorage.getDataAsObject(offsets[1]) != null && System.currentTimeMillis() - start < GC_TIMEOUT)
+        {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(dataStorage.getDataAsObject(offsets[1]));
+        assertNotNull(dataStorage.getDataAsObject(offsets[0]));
+        assertNotNull(dataStorage.getDataAsObject(offsets[2]));
+        assertNotNull(dataStorage.getDataAsObject(offsets[3]));
+        assertNotNull(dataStorage.getDataAsObject(offsets[4]));
+    }
+}
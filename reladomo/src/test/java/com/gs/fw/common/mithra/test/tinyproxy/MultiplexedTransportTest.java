@@ -0,0 +1,305 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test.tinyproxy;
+
+import com.gs.fw.common.mithra.MithraException;
+import com.gs.fw.common.mithra.remote.multiplex.MultiplexedConnection;
+import com.gs.fw.common.mithra.remote.multiplex.MultiplexedMethodTable;
+import com.gs.fw.common.mithra.remote.multiplex.MultiplexedRemoteServiceClient;
+import com.gs.fw.common.mithra.remote.multiplex.MultiplexedRemoteServiceServer;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class MultiplexedTransportTest extends TestCase
+{
+    private MultiplexedRemoteServiceServer server;
+    private MultiplexedRemoteServiceClient client;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        server = new MultiplexedRemoteServiceServer(Echo.class, new EchoImpl(), 0);
+        server.start();
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        if (client != null)
+        {
+            client.close();
+        }
+        server.shutdown();
+    }
+
+    private Echo buildEchoProxy(int connections, boolean compress)
+    {
+        client = new MultiplexedRemoteServiceClient(Echo.class, "localhost", server.getPort(), connections, 0, compress, 16 * 1024);
+        return MultiplexedRemoteServiceClient.create(Echo.class, client);
+    }
+
+    public void testEcho()
+    {
+        Echo echo = buildEchoProxy(1, true);
+        assertEquals("hello", echo.echo("hello"));
+        assertNull(echo.echo(null));
+        assertEquals(17, echo.echoObject(17));
+    }
+
+    public void testLargeMessagesAreChunked()
+    {
+        assertLargeMessages(buildEchoProxy(2, true));
+        client.close();
+        assertLargeMessages(buildEchoProxy(2, false));
+    }
+
+    private void assertLargeMessages(Echo echo)
+    {
+        StringBuilder compressible = new StringBuilder(500000);
+        for (int i = 0; compressible.length() < 500000; i++)
+        {
+            compressible.append("row number ").append(i).append(' ');
+        }
+        assertEquals(compressible.toString(), echo.echo(compressible.toString()));
+
+        byte[] random = new byte[300000];
+        new Random(1234).nextBytes(random);
+        assertTrue(Arrays.equals(random, (byte[]) echo.echoObject(random)));
+    }
+
+    public void testConcurrentCallsShareConnections() throws Exception
+    {
+        final Echo echo = buildEchoProxy(2, true);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try
+        {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 2000; i++)
+            {
+                final String input = "message " + i;
+                results.add(executor.submit(new Callable<String>()
+                {
+                    public String call() throws Exception
+                    {
+                        return echo.echo(input);
+                    }
+                }));
+            }
+            for (int i = 0; i < results.size(); i++)
+            {
+                assertEquals("message " + i, results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertEquals(2, server.getConnectionCount());
+    }
+
+    public void testSlowCallDoesNotBlockConnection() throws Exception
+    {
+        final Echo echo = buildEchoProxy(1, true);
+        final AtomicReference<String> slowResult = new AtomicReference<String>();
+        Thread slow = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    slowResult.set(echo.echoAndSleep("slow", 2000));
+                }
+                catch (Exception e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        slow.start();
+        Thread.sleep(100);
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals("fast", echo.echo("fast"));
+        }
+        assertTrue(System.currentTimeMillis() - start < 1500);
+        assertNull(slowResult.get());
+        slow.join();
+        assertEquals("slow", slowResult.get());
+        assertEquals(1, server.getConnectionCount());
+    }
+
+    public void testExceptions()
+    {
+        Echo echo = buildEchoProxy(1, true);
+        try
+        {
+            echo.throwExpectedException();
+            fail("should not get here");
+        }
+        catch (FakeException e)
+        {
+            // expected
+        }
+        try
+        {
+            echo.throwUnexpectedException();
+            fail("should not get here");
+        }
+        catch (RuntimeException e)
+        {
+            assertEquals("exception for testing", e.getMessage());
+        }
+        try
+        {
+            echo.echoWithException("hello");
+            fail("should not get here");
+        }
+        catch (MithraException e)
+        {
+            // the server could not serialize the response
+        }
+        assertEquals("still working", echo.echo("still working"));
+    }
+
+    public void testReconnectsAfterConnectionLoss()
+    {
+        Echo echo = buildEchoProxy(1, true);
+        assertEquals("before", echo.echo("before"));
+        client.close();
+        assertEquals("after", echo.echo("after"));
+    }
+
+    public void testServerShutdownFailsPendingCalls() throws Exception
+    {
+        final Echo echo = buildEchoProxy(1, true);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread slow = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    echo.echoAndSleep("slow", 5000);
+                }
+                catch (Throwable e)
+                {
+                    failure.set(e);
+                }
+            }
+        };
+        slow.start();
+        Thread.sleep(200);
+        server.shutdown();
+        slow.join(2000);
+        assertFalse(slow.isAlive());
+        assertTrue(failure.get() instanceof MithraException);
+    }
+
+    public void testInvalidFramesCloseTheConnection() throws Exception
+    {
+        // a hello shorter than its own header
+        assertClosedByServer(frame(MultiplexedConnection.FLAG_HELLO | MultiplexedConnection.FLAG_LAST, new byte[0], 2), false);
+        // a frame far larger than a chunk
+        assertClosedByServer(frame(MultiplexedConnection.FLAG_LAST, new byte[0], Integer.MAX_VALUE), true);
+        // a negative length
+        assertClosedByServer(frame(MultiplexedConnection.FLAG_LAST, new byte[0], -1), true);
+        // a compressed frame that claims to decompress to far more than a chunk
+        byte[] claimsHuge = new byte[] { 0, 0, 0, 0x40, 0 };
+        assertClosedByServer(frame(MultiplexedConnection.FLAG_LAST | MultiplexedConnection.FLAG_COMPRESSED, claimsHuge, 9 + claimsHuge.length), true);
+        byte[] claimsNegative = new byte[] { -1, -1, -1, -1, 0 };
+        assertClosedByServer(frame(MultiplexedConnection.FLAG_LAST | MultiplexedConnection.FLAG_COMPRESSED, claimsNegative, 9 + claimsNegative.length), true);
+
+        assertEquals("still working", buildEchoProxy(1, true).echo("still working"));
+    }
+
+    private void assertClosedByServer(byte[] frame, boolean sendHello) throws IOException
+    {
+        Socket socket = new Socket("localhost", server.getPort());
+        try
+        {
+            socket.setSoTimeout(10000);
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            if (sendHello)
+            {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream hello = new DataOutputStream(bytes);
+                hello.writeUTF(Echo.class.getName());
+                hello.writeInt(new MultiplexedMethodTable(Echo.class).getSignatureHash());
+                hello.writeBoolean(true);
+                hello.writeInt(16 * 1024);
+                hello.flush();
+                out.write(frame(MultiplexedConnection.FLAG_HELLO | MultiplexedConnection.FLAG_LAST, bytes.toByteArray(), 9 + bytes.size()));
+                out.flush();
+                int replyLength = in.readInt();
+                in.readFully(new byte[replyLength]);
+            }
+            out.write(frame);
+            out.flush();
+            assertEquals(-1, in.read());
+        }
+        finally
+        {
+            socket.close();
+        }
+    }
+
+    private static byte[] frame(int flags, byte[] payload, int declaredLength) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(declaredLength);
+        out.writeLong(1);
+        out.writeByte(flags);
+        out.write(payload);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    public void testMismatchedInterfaceIsRejected()
+    {
+        client = new MultiplexedRemoteServiceClient(Runnable.class, "localhost", server.getPort(), 1, 0, true, 16 * 1024);
+        Runnable runnable = MultiplexedRemoteServiceClient.create(Runnable.class, client);
+        try
+        {
+            runnable.run();
+            fail("should not get here");
+        }
+        catch (MithraException e)
+        {
+            assertTrue(e.getCause().getMessage().contains("rejected"));
+        }
+    }
+}
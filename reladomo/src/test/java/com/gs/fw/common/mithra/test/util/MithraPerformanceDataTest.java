@@ -27,6 +27,10 @@ import com.gs.fw.common.mithra.test.domain.OrderItemFinder;
 import com.gs.fw.common.mithra.test.domain.OrderList;
 import com.gs.fw.common.mithra.util.DoWhileProcedure;
 import com.gs.fw.common.mithra.util.MithraPerformanceData;
+import com.gs.reladomo.metrics.HistogramMetricsListener;
+import com.gs.reladomo.metrics.LatencyHistogram;
+import com.gs.reladomo.metrics.ReladomoMetricType;
+import com.gs.reladomo.metrics.ReladomoMetrics;
 import org.junit.Assert;
 
 import java.sql.Timestamp;
@@ -210,4 +214,41 @@ public class MithraPerformanceDataTest extends MithraTestAbstract
         Assert.assertEquals(2, performanceDataForOrderItem.getDataForFind().getTotalOperations());
         Assert.assertEquals(4, MithraManagerProvider.getMithraManager().getDatabaseRetrieveCount() - retrieveCountBeforeAnything);
     }
+
+    public void testMetricsListenerRecordsFindsAndInserts()
+    {
+        HistogramMetricsListener listener = new HistogramMetricsListener();
+        ReladomoMetrics.setListener(listener);
+        try
+        {
+            OrderList result = OrderFinder.findMany(OrderFinder.all());
+            result.setBypassCache(true);
+            int size = result.size();
+            OrderFinder.findMany(OrderFinder.all()).forceResolve();
+            OrderFinder.findMany(OrderFinder.all()).forceResolve();
+
+            Order order = new Order();
+            order.setOrderId(-75);
+            order.insert();
+
+            String owner = OrderFinder.class.getName();
+            LatencyHistogram findHistogram = listener.getHistogram(owner, ReladomoMetricType.FIND);
+            Assert.assertEquals(1, findHistogram.getCount());
+            Assert.assertEquals(size, listener.getRows(owner, ReladomoMetricType.FIND));
+            Assert.assertTrue(findHistogram.getValueAtPercentile(99) > 0);
+            Assert.assertTrue(getCount(listener, owner, ReladomoMetricType.QUERY_CACHE_HIT) + getCount(listener, owner, ReladomoMetricType.CACHE_FIND) >= 1);
+            Assert.assertEquals(1, listener.getHistogram(owner, ReladomoMetricType.INSERT).getCount());
+            Assert.assertTrue(listener.getHistogram(owner, ReladomoMetricType.CONNECTION_WAIT).getCount() >= 2);
+        }
+        finally
+        {
+            ReladomoMetrics.setListener(null);
+        }
+    }
+
+    private static long getCount(HistogramMetricsListener listener, String owner, ReladomoMetricType type)
+    {
+        LatencyHistogram histogram = listener.getHistogram(owner, type);
+        return histogram == null ? 0 : histogram.getCount();
+    }
 }
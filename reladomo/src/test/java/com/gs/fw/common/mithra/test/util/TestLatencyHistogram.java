@@ -0,0 +1,132 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+package com.gs.fw.common.mithra.test.util;
+
+import com.gs.reladomo.metrics.HistogramMetricsListener;
+import com.gs.reladomo.metrics.LatencyHistogram;
+import com.gs.reladomo.metrics.ReladomoMetricType;
+import junit.framework.TestCase;
+
+public class TestLatencyHistogram extends TestCase
+{
+    public void testEmpty()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    public void testSmallValuesAreExact()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 50; i++)
+        {
+            histogram.record(i);
+        }
+        assertEquals(50, histogram.getCount());
+        assertEquals(50, histogram.getMax());
+        assertEquals(25.5, histogram.getMean(), 0.0001);
+        assertEquals(25, histogram.getValueAtPercentile(50));
+        assertEquals(50, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    public void testPercentilesWithinPrecision()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100000; i++)
+        {
+            histogram.record(i * 1000L);
+        }
+        assertWithinPrecision(50000000L, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(99000000L, histogram.getValueAtPercentile(99));
+        assertWithinPrecision(99900000L, histogram.getValueAtPercentile(99.9));
+        assertEquals(100000000L, histogram.getValueAtPercentile(100));
+        assertEquals(100000000L, histogram.getMax());
+    }
+
+    public void testHugeAndNegativeValues()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(2, histogram.getCount());
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertTrue(histogram.getValueAtPercentile(100) >= (1L << 39));
+    }
+
+    public void testReset()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    public void testConcurrentRecording() throws Exception
+    {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++)
+        {
+            threads[t] = new Thread()
+            {
+                public void run()
+                {
+                    for (int i = 0; i < 100000; i++)
+                    {
+                        histogram.record(i);
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        assertEquals(400000, histogram.getCount());
+        assertEquals(99999, histogram.getMax());
+    }
+
+    public void testHistogramMetricsListener()
+    {
+        HistogramMetricsListener listener = new HistogramMetricsListener();
+        listener.record("A", ReladomoMetricType.FIND, 100, 10);
+        listener.record("A", ReladomoMetricType.FIND, 200, 5);
+        listener.record("B", ReladomoMetricType.INSERT, 300, 1);
+
+        assertEquals(2, listener.getOwners().size());
+        assertEquals(2, listener.getHistogram("A", ReladomoMetricType.FIND).getCount());
+        assertEquals(15, listener.getRows("A", ReladomoMetricType.FIND));
+        assertNull(listener.getHistogram("A", ReladomoMetricType.INSERT));
+        assertEquals(0, listener.getRows("C", ReladomoMetricType.INSERT));
+        assertEquals(1, listener.getRows("B", ReladomoMetricType.INSERT));
+        assertTrue(listener.toString().contains("B INSERT"));
+
+        listener.reset();
+        assertTrue(listener.getOwners().isEmpty());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual)
+    {
+        assertTrue("expected about " + expected + " but was " + actual, Math.abs(actual - expected) <= expected / 32);
+    }
+}
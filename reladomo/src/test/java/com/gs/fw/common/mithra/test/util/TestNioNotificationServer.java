@@ -0,0 +1,37 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test.util;
+
+import com.gs.fw.common.mithra.notification.server.NioNotificationServer;
+import com.gs.fw.common.mithra.notification.server.NotificationServer;
+
+
+public class TestNioNotificationServer extends TestNotificationServer
+{
+    private int maxQueuedMessages = 10000;
+
+    protected NotificationServer createServer(int port, NotificationServer.ExceptionHandler exceptionHandler)
+    {
+        return new NioNotificationServer(port, exceptionHandler, 2, maxQueuedMessages);
+    }
+
+    public void testDozenClientsHundredMessagesWithSmallQueues()
+    {
+        maxQueuedMessages = 8;
+        runManyClients(12, 14436);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test.util;
+
+import com.gs.fw.common.mithra.notification.server.Message;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+
+public class TestNotificationMessage extends TestCase
+{
+    public void testMalformedHeaderIsRejected() throws Exception
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(Message.MESSAGE_HEADER_SIZE);
+        new Message(Message.TYPE_PING, 1).writeMessage(buffer);
+        buffer.flip();
+        assertNotNull(Message.read(buffer));
+
+        buffer.clear();
+        buffer.putInt(0, 0x12345678);
+        assertRejected(buffer);
+
+        buffer.clear();
+        new Message(Message.TYPE_PING, 1).writeMessage(buffer);
+        buffer.putInt(Message.MESSAGE_HEADER_SIZE - 4, -1);
+        buffer.flip();
+        assertRejected(buffer);
+
+        buffer.position(0);
+        buffer.putInt(Message.MESSAGE_HEADER_SIZE - 4, Integer.MAX_VALUE);
+        assertRejected(buffer);
+    }
+
+    public void testMalformedStreamHeaderIsRejected() throws Exception
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(Message.MESSAGE_HEADER_SIZE);
+        new Message(Message.TYPE_PING, 1).writeMessage(buffer);
+        buffer.putInt(Message.MESSAGE_HEADER_SIZE - 4, -1);
+        try
+        {
+            Message.read(new ByteArrayInputStream(buffer.array()));
+            fail("the header should have been rejected");
+        }
+        catch (IOException e)
+        {
+            // expected
+        }
+    }
+
+    private void assertRejected(ByteBuffer buffer)
+    {
+        try
+        {
+            Message.read(buffer);
+            fail("the header should have been rejected");
+        }
+        catch (IOException e)
+        {
+            // expected
+        }
+    }
+}
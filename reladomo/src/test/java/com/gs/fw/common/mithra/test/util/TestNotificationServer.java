@@ -44,9 +44,14 @@ public class TestNotificationServer extends TestCase
     {
     }
 
+    protected NotificationServer createServer(int port, NotificationServer.ExceptionHandler exceptionHandler)
+    {
+        return new NotificationServer(port, exceptionHandler);
+    }
+
     private void setupNormalServer()
     {
-        server = new NotificationServer(0);
+        server = createServer(0, null);
         server.start();
         port = server.getPort();
     }
@@ -188,7 +193,7 @@ public class TestNotificationServer extends TestCase
                 trigger.countDown();
             }
         };
-        server = new NotificationServer(failingPortNumber, mockHandler);
+        server = createServer(failingPortNumber, mockHandler);
         server.setDaemon(true);
         server.start();
 
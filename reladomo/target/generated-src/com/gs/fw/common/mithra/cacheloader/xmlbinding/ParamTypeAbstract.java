@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.cacheloader.xmlbinding;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ParamTypeAbstract implements java.io.Serializable
+{
+	private String name ;
+	private String value ;
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraCacheLoaderUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		unmarshaller.skipToEndOfElement(typeName);
+	}
+
+	protected void initListElements(MithraCacheLoaderUnmarshaller unmarshaller)
+	{
+	}
+
+	protected void parseAttributes(MithraCacheLoaderUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+
+		checkMandatoryAttributes(unmarshaller);
+	}
+
+	protected boolean parseAttribute(MithraCacheLoaderUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("name"))
+		{
+			this.setName(unmarshaller.toToken("name", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("value"))
+		{
+			this.setValue(unmarshaller.toToken("value", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	protected void checkMandatoryAttributes(MithraCacheLoaderUnmarshaller unmarshaller)
+	{
+		if (!isNameSet())
+		{
+			unmarshaller.throwException("Attribute 'name' is not set in element '"+this.getClass().getName()+"'");
+		}
+
+		if (!isValueSet())
+		{
+			unmarshaller.throwException("Attribute 'value' is not set in element '"+this.getClass().getName()+"'");
+		}
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String name)
+	{
+		this.name = name;
+	}
+
+	public boolean isNameSet()
+	{
+		return name != null;
+	}
+
+	public void unsetName()
+	{
+		name = null;
+	}
+
+	public String getValue()
+	{
+		return this.value;
+	}
+
+	public void setValue(String value)
+	{
+		this.value = value;
+	}
+
+	public boolean isValueSet()
+	{
+		return value != null;
+	}
+
+	public void unsetValue()
+	{
+		value = null;
+	}
+
+	protected void marshallAttributes(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+		if (isNameSet())
+		{
+			marshaller.writeAttribute("name", name);
+		}
+
+		if (isValueSet())
+		{
+			marshaller.writeAttribute("value", value);
+		}
+	}
+
+	protected void marshallContent(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+	}
+
+	public void toXml(MithraCacheLoaderMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
@@ -0,0 +1,309 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class MasterCacheReplicationServerTypeAbstract implements java.io.Serializable
+{
+	private String masterCacheId ;
+	private String className ;
+	private int syncThreads = 5;
+	private boolean _isSyncThreadsSet;
+	private int syncIntervalInMilliseconds = 60000;
+	private boolean _isSyncIntervalInMillisecondsSet;
+	private List<PropertyType> properties = MithraRuntimeUnmarshaller.emptyList();
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		this.parseElements(unmarshaller, typeName);
+	}
+
+	protected void initListElements(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		properties = (List<PropertyType>) unmarshaller.newList();
+	}
+
+	protected void parseElements(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.initListElements(unmarshaller);
+		int eventType = unmarshaller.getNextStartOrEnd();
+		if (!unmarshaller.isAtEnd(eventType, typeName))
+		{
+			XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+			int currentElementState = Integer.MAX_VALUE;
+			int state = 0;
+			while(eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				String elementName = xmlStreamReader.getLocalName();
+				currentElementState = getState(elementName);
+				if(state <= currentElementState)
+				{
+					if (state < 0)
+					{
+						unmarshaller.throwException("unexpected element in MasterCacheReplicationServerType: "+elementName);
+					}
+				}
+				else
+				{
+					unmarshaller.throwException("element out of order " + elementName + " in type MasterCacheReplicationServerType");
+				}
+
+				parseElement(unmarshaller, state, elementName);
+				state = currentElementState;
+				eventType = unmarshaller.getNextStartOrEnd();
+			}
+
+			unmarshaller.expectEnd(eventType, typeName);
+			checkListMinOccurs(unmarshaller);
+		}
+	}
+
+	protected void checkListMinOccurs(MithraRuntimeUnmarshaller unmarshaller)
+	{
+	}
+
+	protected int getState(String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("Property"))
+		{
+			return 1;
+		}
+
+		return -1;
+	}
+
+	protected void parseElement(MithraRuntimeUnmarshaller unmarshaller, int state, String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("Property"))
+		{
+			PropertyType _property = new PropertyType();
+			_property.parse(unmarshaller, "Property");
+			_property._setParent(this);
+			this.getProperties().add(_property);
+		}
+	}
+
+	protected void parseAttributes(MithraRuntimeUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+
+		checkMandatoryAttributes(unmarshaller);
+	}
+
+	protected boolean parseAttribute(MithraRuntimeUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("masterCacheId"))
+		{
+			this.setMasterCacheId(unmarshaller.toToken("masterCacheId", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("className"))
+		{
+			this.setClassName(unmarshaller.toToken("className", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("syncThreads"))
+		{
+			this.setSyncThreads(unmarshaller.parseInt("syncThreads", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("syncIntervalInMilliseconds"))
+		{
+			this.setSyncIntervalInMilliseconds(unmarshaller.parseInt("syncIntervalInMilliseconds", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	protected void checkMandatoryAttributes(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		if (!isMasterCacheIdSet())
+		{
+			unmarshaller.throwException("Attribute 'masterCacheId' is not set in element '"+this.getClass().getName()+"'");
+		}
+
+		if (!isClassNameSet())
+		{
+			unmarshaller.throwException("Attribute 'className' is not set in element '"+this.getClass().getName()+"'");
+		}
+	}
+
+	public String getMasterCacheId()
+	{
+		return this.masterCacheId;
+	}
+
+	public void setMasterCacheId(String masterCacheId)
+	{
+		this.masterCacheId = masterCacheId;
+	}
+
+	public boolean isMasterCacheIdSet()
+	{
+		return masterCacheId != null;
+	}
+
+	public void unsetMasterCacheId()
+	{
+		masterCacheId = null;
+	}
+
+	public String getClassName()
+	{
+		return this.className;
+	}
+
+	public void setClassName(String className)
+	{
+		this.className = className;
+	}
+
+	public boolean isClassNameSet()
+	{
+		return className != null;
+	}
+
+	public void unsetClassName()
+	{
+		className = null;
+	}
+
+	public int getSyncThreads()
+	{
+		return this.syncThreads;
+	}
+
+	public void setSyncThreads(int syncThreads)
+	{
+		this.syncThreads = syncThreads;
+		this._isSyncThreadsSet = true;
+	}
+
+	public boolean isSyncThreadsSet()
+	{
+		return _isSyncThreadsSet;
+	}
+
+	public void unsetSyncThreads()
+	{
+		_isSyncThreadsSet = false;
+		syncThreads = 5;
+	}
+
+	public int getSyncIntervalInMilliseconds()
+	{
+		return this.syncIntervalInMilliseconds;
+	}
+
+	public void setSyncIntervalInMilliseconds(int syncIntervalInMilliseconds)
+	{
+		this.syncIntervalInMilliseconds = syncIntervalInMilliseconds;
+		this._isSyncIntervalInMillisecondsSet = true;
+	}
+
+	public boolean isSyncIntervalInMillisecondsSet()
+	{
+		return _isSyncIntervalInMillisecondsSet;
+	}
+
+	public void unsetSyncIntervalInMilliseconds()
+	{
+		_isSyncIntervalInMillisecondsSet = false;
+		syncIntervalInMilliseconds = 60000;
+	}
+
+	public List<PropertyType> getProperties()
+	{
+		return this.properties;
+	}
+
+	public void setProperties(List<PropertyType> properties)
+	{
+		this.properties = properties;
+	}
+
+	public boolean isPropertiesSet()
+	{
+		return properties != null && properties.size() > 0;
+	}
+
+	protected void marshallAttributes(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isMasterCacheIdSet())
+		{
+			marshaller.writeAttribute("masterCacheId", masterCacheId);
+		}
+
+		if (isClassNameSet())
+		{
+			marshaller.writeAttribute("className", className);
+		}
+
+		if (isSyncThreadsSet())
+		{
+			marshaller.writeAttribute("syncThreads", syncThreads);
+		}
+
+		if (isSyncIntervalInMillisecondsSet())
+		{
+			marshaller.writeAttribute("syncIntervalInMilliseconds", syncIntervalInMilliseconds);
+		}
+	}
+
+	protected void marshallContent(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isPropertiesSet())
+		{
+			for(PropertyType property: this.properties)
+			{
+				property.toXml(marshaller, "Property");
+			}
+		}
+	}
+
+	public void toXml(MithraRuntimeMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
@@ -0,0 +1,782 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class MithraObjectConfigurationTypeAbstract implements java.io.Serializable
+{
+	private String className ;
+	private CacheType cacheType ;
+	private TxParticipationType txParticipation = new TxParticipationType().with("full", (MithraObjectConfigurationType) this);
+	private boolean _isTxParticipationSet;
+	private boolean offHeapFullCache = false;
+	private boolean _isOffHeapFullCacheSet;
+	private String offHeapFileDirectory ;
+	private boolean offHeapPartialCache = false;
+	private boolean _isOffHeapPartialCacheSet;
+	private int offHeapPartialCacheSize = 0;
+	private boolean _isOffHeapPartialCacheSizeSet;
+	private boolean writeBehind = false;
+	private boolean _isWriteBehindSet;
+	private String writeBehindJournalDirectory ;
+	private int relationshipCacheSize ;
+	private boolean _isRelationshipCacheSizeSet;
+	private int minQueriesToKeep ;
+	private boolean _isMinQueriesToKeepSet;
+	private boolean replicated = false;
+	private boolean _isReplicatedSet;
+	private boolean useMultiUpdate = true;
+	private boolean _isUseMultiUpdateSet;
+	private boolean threeTierExport = true;
+	private boolean _isThreeTierExportSet;
+	private boolean offHeapReplicationExport = true;
+	private boolean _isOffHeapReplicationExportSet;
+	private boolean loadCacheOnStartup = true;
+	private boolean _isLoadCacheOnStartupSet;
+	private long cacheTimeToLive = 0;
+	private boolean _isCacheTimeToLiveSet;
+	private long relationshipCacheTimeToLive = 0;
+	private boolean _isRelationshipCacheTimeToLiveSet;
+	private String loadOperationProvider ;
+	private boolean getTableNameFromConnectionManager = false;
+	private boolean _isGetTableNameFromConnectionManagerSet;
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		unmarshaller.skipToEndOfElement(typeName);
+	}
+
+	protected void initListElements(MithraRuntimeUnmarshaller unmarshaller)
+	{
+	}
+
+	protected void parseAttributes(MithraRuntimeUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+
+		checkMandatoryAttributes(unmarshaller);
+	}
+
+	protected boolean parseAttribute(MithraRuntimeUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("className"))
+		{
+			this.setClassName(unmarshaller.toToken("className", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("cacheType"))
+		{
+			CacheType _cacheType = new CacheType();
+			_cacheType.parse("cacheType", attributeValue, unmarshaller);
+			_cacheType._setParent(this);
+			this.setCacheType(_cacheType);
+			return true;
+		}
+
+		if (attributeName.equals("txParticipation"))
+		{
+			TxParticipationType _txParticipation = new TxParticipationType();
+			_txParticipation.parse("txParticipation", attributeValue, unmarshaller);
+			_txParticipation._setParent(this);
+			this.setTxParticipation(_txParticipation);
+			return true;
+		}
+
+		if (attributeName.equals("offHeapFullCache"))
+		{
+			this.setOffHeapFullCache(unmarshaller.parseBoolean("offHeapFullCache", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("offHeapFileDirectory"))
+		{
+			this.setOffHeapFileDirectory(unmarshaller.toPlainString("offHeapFileDirectory", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("offHeapPartialCache"))
+		{
+			this.setOffHeapPartialCache(unmarshaller.parseBoolean("offHeapPartialCache", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("offHeapPartialCacheSize"))
+		{
+			this.setOffHeapPartialCacheSize(unmarshaller.parseInt("offHeapPartialCacheSize", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("writeBehind"))
+		{
+			this.setWriteBehind(unmarshaller.parseBoolean("writeBehind", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("writeBehindJournalDirectory"))
+		{
+			this.setWriteBehindJournalDirectory(unmarshaller.toPlainString("writeBehindJournalDirectory", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("relationshipCacheSize"))
+		{
+			this.setRelationshipCacheSize(unmarshaller.parseInt("relationshipCacheSize", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("minQueriesToKeep"))
+		{
+			this.setMinQueriesToKeep(unmarshaller.parseInt("minQueriesToKeep", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("replicated"))
+		{
+			this.setReplicated(unmarshaller.parseBoolean("replicated", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("useMultiUpdate"))
+		{
+			this.setUseMultiUpdate(unmarshaller.parseBoolean("useMultiUpdate", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("threeTierExport"))
+		{
+			this.setThreeTierExport(unmarshaller.parseBoolean("threeTierExport", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("offHeapReplicationExport"))
+		{
+			this.setOffHeapReplicationExport(unmarshaller.parseBoolean("offHeapReplicationExport", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("loadCacheOnStartup"))
+		{
+			this.setLoadCacheOnStartup(unmarshaller.parseBoolean("loadCacheOnStartup", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("cacheTimeToLive"))
+		{
+			this.setCacheTimeToLive(unmarshaller.parseLong("cacheTimeToLive", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("relationshipCacheTimeToLive"))
+		{
+			this.setRelationshipCacheTimeToLive(unmarshaller.parseLong("relationshipCacheTimeToLive", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("loadOperationProvider"))
+		{
+			this.setLoadOperationProvider(unmarshaller.toToken("loadOperationProvider", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("getTableNameFromConnectionManager"))
+		{
+			this.setGetTableNameFromConnectionManager(unmarshaller.parseBoolean("getTableNameFromConnectionManager", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	protected void checkMandatoryAttributes(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		if (!isClassNameSet())
+		{
+			unmarshaller.throwException("Attribute 'className' is not set in element '"+this.getClass().getName()+"'");
+		}
+
+		if (!isCacheTypeSet())
+		{
+			unmarshaller.throwException("Attribute 'cacheType' is not set in element '"+this.getClass().getName()+"'");
+		}
+	}
+
+	public String getClassName()
+	{
+		return this.className;
+	}
+
+	public void setClassName(String className)
+	{
+		this.className = className;
+	}
+
+	public boolean isClassNameSet()
+	{
+		return className != null;
+	}
+
+	public void unsetClassName()
+	{
+		className = null;
+	}
+
+	public CacheType getCacheType()
+	{
+		return this.cacheType;
+	}
+
+	public void setCacheType(CacheType cacheType)
+	{
+		this.cacheType = cacheType;
+	}
+
+	public boolean isCacheTypeSet()
+	{
+		return cacheType != null;
+	}
+
+	public void unsetCacheType()
+	{
+		cacheType = null;
+	}
+
+	public TxParticipationType getTxParticipation()
+	{
+		return this.txParticipation;
+	}
+
+	public void setTxParticipation(TxParticipationType txParticipation)
+	{
+		this.txParticipation = txParticipation;
+		this._isTxParticipationSet = true;
+	}
+
+	public boolean isTxParticipationSet()
+	{
+		return _isTxParticipationSet;
+	}
+
+	public void unsetTxParticipation()
+	{
+		_isTxParticipationSet = false;
+		txParticipation = new TxParticipationType().with("full", (MithraObjectConfigurationType) this);
+	}
+
+	public boolean isOffHeapFullCache()
+	{
+		return this.offHeapFullCache;
+	}
+
+	public void setOffHeapFullCache(boolean offHeapFullCache)
+	{
+		this.offHeapFullCache = offHeapFullCache;
+		this._isOffHeapFullCacheSet = true;
+	}
+
+	public boolean isOffHeapFullCacheSet()
+	{
+		return _isOffHeapFullCacheSet;
+	}
+
+	public void unsetOffHeapFullCache()
+	{
+		_isOffHeapFullCacheSet = false;
+		offHeapFullCache = false;
+	}
+
+	public String getOffHeapFileDirectory()
+	{
+		return this.offHeapFileDirectory;
+	}
+
+	public void setOffHeapFileDirectory(String offHeapFileDirectory)
+	{
+		this.offHeapFileDirectory = offHeapFileDirectory;
+	}
+
+	public boolean isOffHeapFileDirectorySet()
+	{
+		return offHeapFileDirectory != null;
+	}
+
+	public void unsetOffHeapFileDirectory()
+	{
+		offHeapFileDirectory = null;
+	}
+
+	public boolean isOffHeapPartialCache()
+	{
+		return this.offHeapPartialCache;
+	}
+
+	public void setOffHeapPartialCache(boolean offHeapPartialCache)
+	{
+		this.offHeapPartialCache = offHeapPartialCache;
+		this._isOffHeapPartialCacheSet = true;
+	}
+
+	public boolean isOffHeapPartialCacheSet()
+	{
+		return _isOffHeapPartialCacheSet;
+	}
+
+	public void unsetOffHeapPartialCache()
+	{
+		_isOffHeapPartialCacheSet = false;
+		offHeapPartialCache = false;
+	}
+
+	public int getOffHeapPartialCacheSize()
+	{
+		return this.offHeapPartialCacheSize;
+	}
+
+	public void setOffHeapPartialCacheSize(int offHeapPartialCacheSize)
+	{
+		this.offHeapPartialCacheSize = offHeapPartialCacheSize;
+		this._isOffHeapPartialCacheSizeSet = true;
+	}
+
+	public boolean isOffHeapPartialCacheSizeSet()
+	{
+		return _isOffHeapPartialCacheSizeSet;
+	}
+
+	public void unsetOffHeapPartialCacheSize()
+	{
+		_isOffHeapPartialCacheSizeSet = false;
+		offHeapPartialCacheSize = 0;
+	}
+
+	public boolean isWriteBehind()
+	{
+		return this.writeBehind;
+	}
+
+	public void setWriteBehind(boolean writeBehind)
+	{
+		this.writeBehind = writeBehind;
+		this._isWriteBehindSet = true;
+	}
+
+	public boolean isWriteBehindSet()
+	{
+		return _isWriteBehindSet;
+	}
+
+	public void unsetWriteBehind()
+	{
+		_isWriteBehindSet = false;
+		writeBehind = false;
+	}
+
+	public String getWriteBehindJournalDirectory()
+	{
+		return this.writeBehindJournalDirectory;
+	}
+
+	public void setWriteBehindJournalDirectory(String writeBehindJournalDirectory)
+	{
+		this.writeBehindJournalDirectory = writeBehindJournalDirectory;
+	}
+
+	public boolean isWriteBehindJournalDirectorySet()
+	{
+		return writeBehindJournalDirectory != null;
+	}
+
+	public void unsetWriteBehindJournalDirectory()
+	{
+		writeBehindJournalDirectory = null;
+	}
+
+	public int getRelationshipCacheSize()
+	{
+		return this.relationshipCacheSize;
+	}
+
+	public void setRelationshipCacheSize(int relationshipCacheSize)
+	{
+		this.relationshipCacheSize = relationshipCacheSize;
+		this._isRelationshipCacheSizeSet = true;
+	}
+
+	public boolean isRelationshipCacheSizeSet()
+	{
+		return _isRelationshipCacheSizeSet;
+	}
+
+	public void unsetRelationshipCacheSize()
+	{
+		_isRelationshipCacheSizeSet = false;
+		relationshipCacheSize = 0;
+	}
+
+	public int getMinQueriesToKeep()
+	{
+		return this.minQueriesToKeep;
+	}
+
+	public void setMinQueriesToKeep(int minQueriesToKeep)
+	{
+		this.minQueriesToKeep = minQueriesToKeep;
+		this._isMinQueriesToKeepSet = true;
+	}
+
+	public boolean isMinQueriesToKeepSet()
+	{
+		return _isMinQueriesToKeepSet;
+	}
+
+	public void unsetMinQueriesToKeep()
+	{
+		_isMinQueriesToKeepSet = false;
+		minQueriesToKeep = 0;
+	}
+
+	public boolean isReplicated()
+	{
+		return this.replicated;
+	}
+
+	public void setReplicated(boolean replicated)
+	{
+		this.replicated = replicated;
+		this._isReplicatedSet = true;
+	}
+
+	public boolean isReplicatedSet()
+	{
+		return _isReplicatedSet;
+	}
+
+	public void unsetReplicated()
+	{
+		_isReplicatedSet = false;
+		replicated = false;
+	}
+
+	public boolean isUseMultiUpdate()
+	{
+		return this.useMultiUpdate;
+	}
+
+	public void setUseMultiUpdate(boolean useMultiUpdate)
+	{
+		this.useMultiUpdate = useMultiUpdate;
+		this._isUseMultiUpdateSet = true;
+	}
+
+	public boolean isUseMultiUpdateSet()
+	{
+		return _isUseMultiUpdateSet;
+	}
+
+	public void unsetUseMultiUpdate()
+	{
+		_isUseMultiUpdateSet = false;
+		useMultiUpdate = true;
+	}
+
+	public boolean isThreeTierExport()
+	{
+		return this.threeTierExport;
+	}
+
+	public void setThreeTierExport(boolean threeTierExport)
+	{
+		this.threeTierExport = threeTierExport;
+		this._isThreeTierExportSet = true;
+	}
+
+	public boolean isThreeTierExportSet()
+	{
+		return _isThreeTierExportSet;
+	}
+
+	public void unsetThreeTierExport()
+	{
+		_isThreeTierExportSet = false;
+		threeTierExport = true;
+	}
+
+	public boolean isOffHeapReplicationExport()
+	{
+		return this.offHeapReplicationExport;
+	}
+
+	public void setOffHeapReplicationExport(boolean offHeapReplicationExport)
+	{
+		this.offHeapReplicationExport = offHeapReplicationExport;
+		this._isOffHeapReplicationExportSet = true;
+	}
+
+	public boolean isOffHeapReplicationExportSet()
+	{
+		return _isOffHeapReplicationExportSet;
+	}
+
+	public void unsetOffHeapReplicationExport()
+	{
+		_isOffHeapReplicationExportSet = false;
+		offHeapReplicationExport = true;
+	}
+
+	public boolean isLoadCacheOnStartup()
+	{
+		return this.loadCacheOnStartup;
+	}
+
+	public void setLoadCacheOnStartup(boolean loadCacheOnStartup)
+	{
+		this.loadCacheOnStartup = loadCacheOnStartup;
+		this._isLoadCacheOnStartupSet = true;
+	}
+
+	public boolean isLoadCacheOnStartupSet()
+	{
+		return _isLoadCacheOnStartupSet;
+	}
+
+	public void unsetLoadCacheOnStartup()
+	{
+		_isLoadCacheOnStartupSet = false;
+		loadCacheOnStartup = true;
+	}
+
+	public long getCacheTimeToLive()
+	{
+		return this.cacheTimeToLive;
+	}
+
+	public void setCacheTimeToLive(long cacheTimeToLive)
+	{
+		this.cacheTimeToLive = cacheTimeToLive;
+		this._isCacheTimeToLiveSet = true;
+	}
+
+	public boolean isCacheTimeToLiveSet()
+	{
+		return _isCacheTimeToLiveSet;
+	}
+
+	public void unsetCacheTimeToLive()
+	{
+		_isCacheTimeToLiveSet = false;
+		cacheTimeToLive = 0;
+	}
+
+	public long getRelationshipCacheTimeToLive()
+	{
+		return this.relationshipCacheTimeToLive;
+	}
+
+	public void setRelationshipCacheTimeToLive(long relationshipCacheTimeToLive)
+	{
+		this.relationshipCacheTimeToLive = relationshipCacheTimeToLive;
+		this._isRelationshipCacheTimeToLiveSet = true;
+	}
+
+	public boolean isRelationshipCacheTimeToLiveSet()
+	{
+		return _isRelationshipCacheTimeToLiveSet;
+	}
+
+	public void unsetRelationshipCacheTimeToLive()
+	{
+		_isRelationshipCacheTimeToLiveSet = false;
+		relationshipCacheTimeToLive = 0;
+	}
+
+	public String getLoadOperationProvider()
+	{
+		return this.loadOperationProvider;
+	}
+
+	public void setLoadOperationProvider(String loadOperationProvider)
+	{
+		this.loadOperationProvider = loadOperationProvider;
+	}
+
+	public boolean isLoadOperationProviderSet()
+	{
+		return loadOperationProvider != null;
+	}
+
+	public void unsetLoadOperationProvider()
+	{
+		loadOperationProvider = null;
+	}
+
+	public boolean isGetTableNameFromConnectionManager()
+	{
+		return this.getTableNameFromConnectionManager;
+	}
+
+	public void setGetTableNameFromConnectionManager(boolean getTableNameFromConnectionManager)
+	{
+		this.getTableNameFromConnectionManager = getTableNameFromConnectionManager;
+		this._isGetTableNameFromConnectionManagerSet = true;
+	}
+
+	public boolean isGetTableNameFromConnectionManagerSet()
+	{
+		return _isGetTableNameFromConnectionManagerSet;
+	}
+
+	public void unsetGetTableNameFromConnectionManager()
+	{
+		_isGetTableNameFromConnectionManagerSet = false;
+		getTableNameFromConnectionManager = false;
+	}
+
+	protected void marshallAttributes(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isClassNameSet())
+		{
+			marshaller.writeAttribute("className", className);
+		}
+
+		if (isCacheTypeSet())
+		{
+			cacheType.toXmlAsAttribute(marshaller, "cacheType");
+		}
+
+		if (isTxParticipationSet())
+		{
+			txParticipation.toXmlAsAttribute(marshaller, "txParticipation");
+		}
+
+		if (isOffHeapFullCacheSet())
+		{
+			marshaller.writeAttribute("offHeapFullCache", offHeapFullCache);
+		}
+
+		if (isOffHeapFileDirectorySet())
+		{
+			marshaller.writeAttribute("offHeapFileDirectory", offHeapFileDirectory);
+		}
+
+		if (isOffHeapPartialCacheSet())
+		{
+			marshaller.writeAttribute("offHeapPartialCache", offHeapPartialCache);
+		}
+
+		if (isOffHeapPartialCacheSizeSet())
+		{
+			marshaller.writeAttribute("offHeapPartialCacheSize", offHeapPartialCacheSize);
+		}
+
+		if (isWriteBehindSet())
+		{
+			marshaller.writeAttribute("writeBehind", writeBehind);
+		}
+
+		if (isWriteBehindJournalDirectorySet())
+		{
+			marshaller.writeAttribute("writeBehindJournalDirectory", writeBehindJournalDirectory);
+		}
+
+		if (isRelationshipCacheSizeSet())
+		{
+			marshaller.writeAttribute("relationshipCacheSize", relationshipCacheSize);
+		}
+
+		if (isMinQueriesToKeepSet())
+		{
+			marshaller.writeAttribute("minQueriesToKeep", minQueriesToKeep);
+		}
+
+		if (isReplicatedSet())
+		{
+			marshaller.writeAttribute("replicated", replicated);
+		}
+
+		if (isUseMultiUpdateSet())
+		{
+			marshaller.writeAttribute("useMultiUpdate", useMultiUpdate);
+		}
+
+		if (isThreeTierExportSet())
+		{
+			marshaller.writeAttribute("threeTierExport", threeTierExport);
+		}
+
+		if (isOffHeapReplicationExportSet())
+		{
+			marshaller.writeAttribute("offHeapReplicationExport", offHeapReplicationExport);
+		}
+
+		if (isLoadCacheOnStartupSet())
+		{
+			marshaller.writeAttribute("loadCacheOnStartup", loadCacheOnStartup);
+		}
+
+		if (isCacheTimeToLiveSet())
+		{
+			marshaller.writeAttribute("cacheTimeToLive", cacheTimeToLive);
+		}
+
+		if (isRelationshipCacheTimeToLiveSet())
+		{
+			marshaller.writeAttribute("relationshipCacheTimeToLive", relationshipCacheTimeToLive);
+		}
+
+		if (isLoadOperationProviderSet())
+		{
+			marshaller.writeAttribute("loadOperationProvider", loadOperationProvider);
+		}
+
+		if (isGetTableNameFromConnectionManagerSet())
+		{
+			marshaller.writeAttribute("getTableNameFromConnectionManager", getTableNameFromConnectionManager);
+		}
+	}
+
+	protected void marshallContent(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	public void toXml(MithraRuntimeMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
@@ -0,0 +1,37 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.*;
+import java.util.*;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class MithraRuntimeParserException extends RuntimeException
+{
+	private Location location;
+	public MithraRuntimeParserException(String message)
+	{
+		super(message);
+	}
+
+	public MithraRuntimeParserException(String message, Throwable cause)
+	{
+		super(message, cause);
+	}
+
+	public MithraRuntimeParserException(String message, XMLStreamException cause)
+	{
+		super(message+(cause.getLocation() == null ? "" :" at location: "+cause.getLocation().toString()), cause);
+		this.location = cause.getLocation();
+	}
+
+	public MithraRuntimeParserException(String message, Location location, String diagnosticMessage)
+	{
+		super(message+(location == null ? "" :" at location: "+location.toString())+(diagnosticMessage == null ? "" : " "+diagnosticMessage));
+		this.location = location;
+	}
+
+	public Location getLocation()
+	{
+		return location;
+	}
+}
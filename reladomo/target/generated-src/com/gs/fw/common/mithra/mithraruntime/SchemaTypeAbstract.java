@@ -0,0 +1,313 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class SchemaTypeAbstract implements java.io.Serializable
+{
+	private String name ;
+	private boolean getFromConnectionManager = false;
+	private boolean _isGetFromConnectionManagerSet;
+	private long replicationPollingInterval = 300000;
+	private boolean _isReplicationPollingIntervalSet;
+	private String replicationSchemaName ;
+	private List<MithraObjectConfigurationType> mithraObjectConfigurations = MithraRuntimeUnmarshaller.emptyList();
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		this.parseElements(unmarshaller, typeName);
+	}
+
+	protected void initListElements(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		mithraObjectConfigurations = (List<MithraObjectConfigurationType>) unmarshaller.newList();
+	}
+
+	protected void parseElements(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.initListElements(unmarshaller);
+		int eventType = unmarshaller.getNextStartOrEnd();
+		if (!unmarshaller.isAtEnd(eventType, typeName))
+		{
+			XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+			int currentElementState = Integer.MAX_VALUE;
+			int state = 0;
+			while(eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				String elementName = xmlStreamReader.getLocalName();
+				currentElementState = getState(elementName);
+				if(state <= currentElementState)
+				{
+					if (state < 0)
+					{
+						unmarshaller.throwException("unexpected element in SchemaType: "+elementName);
+					}
+				}
+				else
+				{
+					unmarshaller.throwException("element out of order " + elementName + " in type SchemaType");
+				}
+
+				parseElement(unmarshaller, state, elementName);
+				state = currentElementState;
+				eventType = unmarshaller.getNextStartOrEnd();
+			}
+
+			if (state < 1)
+			{
+				unmarshaller.throwException("expecting at least one element of type MithraObjectConfiguration in SchemaType");
+			}
+
+			unmarshaller.expectEnd(eventType, typeName);
+			checkListMinOccurs(unmarshaller);
+		}
+	}
+
+	protected void checkListMinOccurs(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		if(this.getMithraObjectConfigurations().size() < 1)
+		{
+			unmarshaller.throwException("need at least 1 elements in MithraObjectConfiguration");
+		}
+	}
+
+	protected int getState(String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("MithraObjectConfiguration"))
+		{
+			return 1;
+		}
+
+		return -1;
+	}
+
+	protected void parseElement(MithraRuntimeUnmarshaller unmarshaller, int state, String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("MithraObjectConfiguration"))
+		{
+			MithraObjectConfigurationType _mithraObjectConfiguration = new MithraObjectConfigurationType();
+			_mithraObjectConfiguration.parse(unmarshaller, "MithraObjectConfiguration");
+			_mithraObjectConfiguration._setParent(this);
+			this.getMithraObjectConfigurations().add(_mithraObjectConfiguration);
+		}
+	}
+
+	protected void parseAttributes(MithraRuntimeUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+
+		checkMandatoryAttributes(unmarshaller);
+	}
+
+	protected boolean parseAttribute(MithraRuntimeUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("name"))
+		{
+			this.setName(unmarshaller.toToken("name", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("getFromConnectionManager"))
+		{
+			this.setGetFromConnectionManager(unmarshaller.parseBoolean("getFromConnectionManager", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("replicationPollingInterval"))
+		{
+			this.setReplicationPollingInterval(unmarshaller.parseLong("replicationPollingInterval", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("replicationSchemaName"))
+		{
+			this.setReplicationSchemaName(unmarshaller.toToken("replicationSchemaName", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	protected void checkMandatoryAttributes(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		if (!isNameSet())
+		{
+			unmarshaller.throwException("Attribute 'name' is not set in element '"+this.getClass().getName()+"'");
+		}
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String name)
+	{
+		this.name = name;
+	}
+
+	public boolean isNameSet()
+	{
+		return name != null;
+	}
+
+	public void unsetName()
+	{
+		name = null;
+	}
+
+	public boolean isGetFromConnectionManager()
+	{
+		return this.getFromConnectionManager;
+	}
+
+	public void setGetFromConnectionManager(boolean getFromConnectionManager)
+	{
+		this.getFromConnectionManager = getFromConnectionManager;
+		this._isGetFromConnectionManagerSet = true;
+	}
+
+	public boolean isGetFromConnectionManagerSet()
+	{
+		return _isGetFromConnectionManagerSet;
+	}
+
+	public void unsetGetFromConnectionManager()
+	{
+		_isGetFromConnectionManagerSet = false;
+		getFromConnectionManager = false;
+	}
+
+	public long getReplicationPollingInterval()
+	{
+		return this.replicationPollingInterval;
+	}
+
+	public void setReplicationPollingInterval(long replicationPollingInterval)
+	{
+		this.replicationPollingInterval = replicationPollingInterval;
+		this._isReplicationPollingIntervalSet = true;
+	}
+
+	public boolean isReplicationPollingIntervalSet()
+	{
+		return _isReplicationPollingIntervalSet;
+	}
+
+	public void unsetReplicationPollingInterval()
+	{
+		_isReplicationPollingIntervalSet = false;
+		replicationPollingInterval = 300000;
+	}
+
+	public String getReplicationSchemaName()
+	{
+		return this.replicationSchemaName;
+	}
+
+	public void setReplicationSchemaName(String replicationSchemaName)
+	{
+		this.replicationSchemaName = replicationSchemaName;
+	}
+
+	public boolean isReplicationSchemaNameSet()
+	{
+		return replicationSchemaName != null;
+	}
+
+	public void unsetReplicationSchemaName()
+	{
+		replicationSchemaName = null;
+	}
+
+	public List<MithraObjectConfigurationType> getMithraObjectConfigurations()
+	{
+		return this.mithraObjectConfigurations;
+	}
+
+	public void setMithraObjectConfigurations(List<MithraObjectConfigurationType> mithraObjectConfigurations)
+	{
+		this.mithraObjectConfigurations = mithraObjectConfigurations;
+	}
+
+	public boolean isMithraObjectConfigurationsSet()
+	{
+		return mithraObjectConfigurations != null && mithraObjectConfigurations.size() > 0;
+	}
+
+	protected void marshallAttributes(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isNameSet())
+		{
+			marshaller.writeAttribute("name", name);
+		}
+
+		if (isGetFromConnectionManagerSet())
+		{
+			marshaller.writeAttribute("getFromConnectionManager", getFromConnectionManager);
+		}
+
+		if (isReplicationPollingIntervalSet())
+		{
+			marshaller.writeAttribute("replicationPollingInterval", replicationPollingInterval);
+		}
+
+		if (isReplicationSchemaNameSet())
+		{
+			marshaller.writeAttribute("replicationSchemaName", replicationSchemaName);
+		}
+	}
+
+	protected void marshallContent(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isMithraObjectConfigurationsSet())
+		{
+			for(MithraObjectConfigurationType mithraObjectConfiguration: this.mithraObjectConfigurations)
+			{
+				mithraObjectConfiguration.toXml(marshaller, "MithraObjectConfiguration");
+			}
+		}
+	}
+
+	public void toXml(MithraRuntimeMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
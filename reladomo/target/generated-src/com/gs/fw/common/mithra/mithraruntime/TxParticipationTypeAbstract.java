@@ -0,0 +1,92 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.io.IOException;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TxParticipationTypeAbstract implements java.io.Serializable
+{
+	private static final Map<String, String> validValues = new HashMap<String,String>();
+	static
+	{
+		validValues.put("full", "full");
+		validValues.put("readOnly", "readOnly");
+	}
+
+	private String value;
+	private Object parent;
+	public TxParticipationType with(String attributeValue, Object parent)
+	{
+		this.value = attributeValue;
+		this.parent = parent;
+		return (TxParticipationType) this;
+	}
+
+	public Object parent()
+	{
+		return this.parent;
+	}
+
+	public String value()
+	{
+		return this.value;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this.parent = parent;
+	}
+
+	public boolean isFull()
+	{
+		return "full" == this.value;
+	}
+
+	public boolean isReadOnly()
+	{
+		return "readOnly" == this.value;
+	}
+
+	public void parse(String attributeName, String attributeValue, MithraRuntimeUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		attributeValue = unmarshaller.toToken(attributeName, attributeValue);
+		this.value = validValues.get(attributeValue);
+		if (this.value == null)
+		{
+			unmarshaller.unknownAttribute(attributeName, attributeValue);
+			this.value = attributeValue;
+		}
+	}
+
+	public void parse(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		String elementValue = unmarshaller.getElementValue(typeName);
+		this.value = validValues.get(elementValue);
+		if (this.value == null)
+		{
+			unmarshaller.unknownAttribute(typeName, elementValue);
+			this.value = elementValue;
+		}
+	}
+
+	public void toXmlAsAttribute(MithraRuntimeMarshaller marshaller, String attributeName) throws IOException
+	{
+		marshaller.writeAttribute(attributeName, this.value);
+	}
+
+	public void toXmlAsElement(MithraRuntimeMarshaller marshaller, String elementName) throws IOException
+	{
+		marshaller.writeSimpleTag(elementName, this.value);
+	}
+
+	public void toXml(MithraRuntimeMarshaller marshaller, String elementName) throws IOException
+	{
+		marshaller.writeSimpleTag(elementName, this.value);
+	}
+}
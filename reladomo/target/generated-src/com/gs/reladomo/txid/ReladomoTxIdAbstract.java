@@ -0,0 +1,296 @@
+package com.gs.reladomo.txid;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ReladomoTxIdAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+implements
+ReladomoTxIdInterface
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ReladomoTxId.class.getName());
+	public ReladomoTxIdAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ReladomoTxId getDetachedCopy() throws MithraBusinessException
+	{
+		return (ReladomoTxId) super.getDetachedCopy();
+	}
+
+	public ReladomoTxId getNonPersistentCopy() throws MithraBusinessException
+	{
+		ReladomoTxId result = (ReladomoTxId) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ReladomoTxId copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ReladomoTxId) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ReladomoTxId zFindOriginal()
+	{
+		ReladomoTxIdData data = (ReladomoTxIdData) this.currentData;
+		Operation op;
+		op = ReladomoTxIdFinder.id().eq(data.getId());
+		return ReladomoTxIdFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ReladomoTxIdData();
+	}
+
+	protected void zSetFromReladomoTxIdData( ReladomoTxIdData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromReladomoTxIdData( ReladomoTxIdData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCommittedNull()
+	{
+		return ((ReladomoTxIdData) this.zSynchronizedGetData()).isCommittedNull();
+	}
+
+	public boolean isCommitted()
+	{
+		ReladomoTxIdData data = (ReladomoTxIdData) this.zSynchronizedGetData();
+		if (data.isCommittedNull()) MithraNullPrimitiveException.throwNew("committed", data);
+		return data.isCommitted();
+	}
+
+	public void setCommitted(boolean newValue)
+	{
+		zSetBoolean(ReladomoTxIdFinder.committed(), newValue, false, false ,true);
+	}
+
+	public boolean isFlowIdNull()
+	{
+		return ((ReladomoTxIdData) this.zSynchronizedGetData()).isFlowIdNull();
+	}
+
+	public String getFlowId()
+	{
+		ReladomoTxIdData data = (ReladomoTxIdData) this.zSynchronizedGetData();
+		return data.getFlowId();
+	}
+
+	public void setFlowId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 60)
+		throw new MithraBusinessException("Attribute 'flowId' cannot exceed maximum length of 60: " + newValue);
+		zSetString(ReladomoTxIdFinder.flowId(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((ReladomoTxIdData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		ReladomoTxIdData data = (ReladomoTxIdData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(ReladomoTxIdFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isXidNull()
+	{
+		return ((ReladomoTxIdData) this.zSynchronizedGetData()).isXidNull();
+	}
+
+	public String getXid()
+	{
+		ReladomoTxIdData data = (ReladomoTxIdData) this.zSynchronizedGetData();
+		return data.getXid();
+	}
+
+	public void setXid(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 86)
+		throw new MithraBusinessException("Attribute 'xid' cannot exceed maximum length of 86: " + newValue);
+		zSetString(ReladomoTxIdFinder.xid(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ReladomoTxIdFinder.committed(), false);
+	}
+
+	public void setCommittedNull()
+	{
+		zNullify(ReladomoTxIdFinder.committed(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ReladomoTxIdData _newData = (ReladomoTxIdData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ReladomoTxIdData _newData = (ReladomoTxIdData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ReladomoTxIdData _newData = (ReladomoTxIdData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ReladomoTxId zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ReladomoTxId original = (ReladomoTxId) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ReladomoTxIdFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReladomoTxIdFinder.getMithraObjectPortal();
+	}
+
+	public ReladomoTxId getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, ReladomoTxIdFinder.committed(), false);
+		changed |= zUpdateString(behavior, data, newData, ReladomoTxIdFinder.flowId(), false);
+		changed |= zUpdateString(behavior, data, newData, ReladomoTxIdFinder.xid(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ReladomoTxIdFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ReladomoTxIdAbstract result = (ReladomoTxIdAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
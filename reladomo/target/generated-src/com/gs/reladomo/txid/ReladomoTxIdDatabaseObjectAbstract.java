@@ -0,0 +1,440 @@
+package com.gs.reladomo.txid;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ReladomoTxIdDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "XID,FLOW_ID,\"COMMITTED\"";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.XID,t0.FLOW_ID,t0.\"COMMITTED\"";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected ReladomoTxIdDatabaseObjectAbstract()
+	{
+		super("ReladomoTxId", "com.gs.reladomo.txid.ReladomoTxIdFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReladomoTxIdFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ReladomoTxIdFinder.getFinderInstance();
+	}
+
+	public static ReladomoTxIdData allocateOnHeapData()
+	{
+		return new ReladomoTxIdData();
+	}
+
+	public static ReladomoTxIdData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ReladomoTxIdData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ReladomoTxIdData data = new ReladomoTxIdData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(ReladomoTxIdFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(ReladomoTxIdFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(ReladomoTxIdFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(ReladomoTxIdFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ReladomoTxIdFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ReladomoTxIdFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ReladomoTxId.zConfigFullTx();
+		}
+		else
+		{
+			ReladomoTxId.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateReladomoTxIdData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkReladomoTxIdData(1, (ReladomoTxIdData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateReladomoTxIdPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getReladomoTxIdTableName();
+	}
+
+	public String getReladomoTxIdTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ReladomoTxIdData data = (ReladomoTxIdData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.XID,t0.FLOW_ID,t0.\"COMMITTED\"";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("XID");
+		result.append(",").append(databaseAlias).append(".").append("FLOW_ID");
+		result.append(",").append(databaseAlias).append(".").append("\"COMMITTED\"");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ReladomoTxIdData inflateReladomoTxIdData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ReladomoTxIdData data = inflateReladomoTxIdPkData(rs, dt);
+		inflateNonPkReladomoTxIdData(2, data, rs, dt);
+		return data;
+	}
+
+	public ReladomoTxIdData inflateReladomoTxIdPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ReladomoTxIdData _data = new ReladomoTxIdData();
+		int _pos = 1;
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkReladomoTxIdData(int _pos, ReladomoTxIdData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ReladomoTxIdData _data = _datax;
+			_data.setXid(trimString(_rs.getString(_pos++)));
+			_data.setFlowId(trimString(_rs.getString(_pos++)));
+			_data.setCommitted(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCommittedNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "RELADOMO_TXID";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ReladomoTxIdData data = (ReladomoTxIdData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		if (data.isXidNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getXid());
+		}
+
+		if (data.isFlowIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getFlowId());
+		}
+
+		if (data.isCommittedNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isCommitted());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,XID,FLOW_ID,\"COMMITTED\"";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ReladomoTxId newObject = new ReladomoTxId();
+		newObject.zSetFromReladomoTxIdData((ReladomoTxIdData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ID");
+		return result.toString();
+	}
+}
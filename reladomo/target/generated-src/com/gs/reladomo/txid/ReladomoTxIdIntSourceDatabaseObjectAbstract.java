@@ -0,0 +1,442 @@
+package com.gs.reladomo.txid;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ReladomoTxIdIntSourceDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private IntSourceConnectionManager connectionManager;
+	private IntSourceSchemaManager schemaManager;
+	private IntSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "XID,FLOW_ID,\"COMMITTED\"";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.XID,t0.FLOW_ID,t0.\"COMMITTED\"";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected ReladomoTxIdIntSourceDatabaseObjectAbstract()
+	{
+		super("ReladomoTxIdIntSource", "com.gs.reladomo.txid.ReladomoTxIdIntSourceFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReladomoTxIdIntSourceFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ReladomoTxIdIntSourceFinder.getFinderInstance();
+	}
+
+	public static ReladomoTxIdIntSourceData allocateOnHeapData()
+	{
+		return new ReladomoTxIdIntSourceData();
+	}
+
+	public static ReladomoTxIdIntSourceData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ReladomoTxIdIntSourceData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ReladomoTxIdIntSourceData data = new ReladomoTxIdIntSourceData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(ReladomoTxIdIntSourceFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdIntSourceFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(ReladomoTxIdIntSourceFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdIntSourceFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(ReladomoTxIdIntSourceFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdIntSourceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(ReladomoTxIdIntSourceFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdIntSourceFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ReladomoTxIdIntSourceFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ReladomoTxIdIntSourceFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ReladomoTxIdIntSource.zConfigFullTx();
+		}
+		else
+		{
+			ReladomoTxIdIntSource.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		ReladomoTxIdIntSourceData data = (ReladomoTxIdIntSourceData)object;
+		return Integer.valueOf(data.getSource());
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((Integer)source).intValue());
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((Integer)source).intValue());
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((Integer)source).intValue());
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((Integer)source).intValue());
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((Integer)source).intValue());
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateReladomoTxIdIntSourceData(rs, dt ,((Integer)source).intValue());
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkReladomoTxIdIntSourceData(1, (ReladomoTxIdIntSourceData) data, rs, dt ,((Integer)source).intValue());
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateReladomoTxIdIntSourcePkData(rs, dt, ((Integer)source).intValue());
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((Integer)source).intValue());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getReladomoTxIdIntSourceTableName(((Integer)source).intValue());
+	}
+
+	public String getReladomoTxIdIntSourceTableName(int sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ReladomoTxIdIntSourceData data = (ReladomoTxIdIntSourceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.XID,t0.FLOW_ID,t0.\"COMMITTED\"";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("XID");
+		result.append(",").append(databaseAlias).append(".").append("FLOW_ID");
+		result.append(",").append(databaseAlias).append(".").append("\"COMMITTED\"");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (IntSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ReladomoTxIdIntSourceData inflateReladomoTxIdIntSourceData(ResultSet rs, DatabaseType dt, int sourceAttribute)
+	throws SQLException
+	{
+		ReladomoTxIdIntSourceData data = inflateReladomoTxIdIntSourcePkData(rs, dt, sourceAttribute);
+		inflateNonPkReladomoTxIdIntSourceData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public ReladomoTxIdIntSourceData inflateReladomoTxIdIntSourcePkData(ResultSet _rs, DatabaseType _dt, int sourceAttribute)
+	throws SQLException
+	{
+		ReladomoTxIdIntSourceData _data = new ReladomoTxIdIntSourceData();
+		int _pos = 1;
+		_data.setSource(sourceAttribute);
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkReladomoTxIdIntSourceData(int _pos, ReladomoTxIdIntSourceData _datax, ResultSet _rs, DatabaseType _dt, int sourceAttribute)
+	throws SQLException
+	{
+		{
+			ReladomoTxIdIntSourceData _data = _datax;
+			_data.setXid(trimString(_rs.getString(_pos++)));
+			_data.setFlowId(trimString(_rs.getString(_pos++)));
+			_data.setCommitted(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCommittedNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType(int sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(int sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(int sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof IntSourceSchemaManager )
+		{
+			this.schemaManager = (IntSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement IntSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof IntSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (IntSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement IntSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "RELADOMO_TXID_IS";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ReladomoTxIdIntSourceData data = (ReladomoTxIdIntSourceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		if (data.isXidNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getXid());
+		}
+
+		if (data.isFlowIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getFlowId());
+		}
+
+		if (data.isCommittedNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isCommitted());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,XID,FLOW_ID,\"COMMITTED\"";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ReladomoTxIdIntSource newObject = new ReladomoTxIdIntSource();
+		newObject.zSetFromReladomoTxIdIntSourceData((ReladomoTxIdIntSourceData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ID");
+		return result.toString();
+	}
+}
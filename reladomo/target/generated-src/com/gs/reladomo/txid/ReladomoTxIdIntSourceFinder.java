@@ -0,0 +1,691 @@
+package com.gs.reladomo.txid;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReladomoTxIdIntSourceFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("source",
+		IntegerAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/reladomo/txid/ReladomoTxIdIntSource";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.reladomo.txid.ReladomoTxIdIntSource";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.reladomo.txid.ReladomoTxIdIntSource");
+	private static final ReladomoTxIdIntSourceSingleFinder<ReladomoTxIdIntSource, Object, ReladomoTxIdIntSource> finder = new ReladomoTxIdIntSourceSingleFinder<ReladomoTxIdIntSource, Object, ReladomoTxIdIntSource>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ReladomoTxIdIntSourceFinder.ReladomoTxIdIntSourceRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("xid");
+		finderMethodMap.addNormalAttributeName("flowId");
+		finderMethodMap.addNormalAttributeName("committed");
+		finderMethodMap.addNormalAttributeName("source");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return ReladomoTxIdIntSourceFinder.zSourceAttributeType;
+	}
+
+	public static ReladomoTxIdIntSource findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ReladomoTxIdIntSource findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ReladomoTxIdIntSourceList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ReladomoTxIdIntSourceList) finder.findMany(operation);
+	}
+
+	public static ReladomoTxIdIntSourceList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ReladomoTxIdIntSourceList) finder.findManyBypassCache(operation);
+	}
+
+	private static ReladomoTxIdIntSource findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ReladomoTxIdIntSource) FinderUtils.findOne(found);
+	}
+
+	public static ReladomoTxIdIntSource findByPrimaryKey(int id, int source)
+	{
+		return finder.findByPrimaryKey(id, source);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ReladomoTxIdIntSourceData _castedTargetData = (ReladomoTxIdIntSourceData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId() && _bean.getI2AsInteger() == _castedTargetData.getSource())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static ReladomoTxIdIntSource zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ReladomoTxIdIntSource) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ReladomoTxIdIntSourceRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ReladomoTxIdIntSource, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements ReladomoTxIdInterfaceFinder<ReladomoTxIdIntSource>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return ReladomoTxIdIntSourceFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> xid;
+		private StringAttribute<ParentOwnerType> flowId;
+		private BooleanAttribute<ParentOwnerType> committed;
+		private IntegerAttribute<ParentOwnerType> source;
+		public ReladomoTxIdIntSourceRelatedFinder()
+		{
+			super();
+		}
+
+		public ReladomoTxIdIntSourceRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.reladomo.txid.ReladomoTxIdIntSourceFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ReladomoTxIdIntSourceFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ReladomoTxIdIntSourceFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ReladomoTxIdIntSourceFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.id();
+			attributes[1] = this.xid();
+			attributes[2] = this.flowId();
+			attributes[3] = this.committed();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ReladomoTxIdIntSource findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ReladomoTxIdIntSourceFinder.findOne(operation, false);
+		}
+
+		public ReladomoTxIdIntSource findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ReladomoTxIdIntSourceFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ReladomoTxIdIntSource> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ReladomoTxIdIntSourceList((Operation) operation);
+		}
+
+		public MithraList<? extends ReladomoTxIdIntSource> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ReladomoTxIdIntSourceList result = (ReladomoTxIdIntSourceList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ReladomoTxIdIntSource> constructEmptyList()
+		{
+			return new ReladomoTxIdIntSourceList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1211713552;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return ReladomoTxIdIntSourceFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReladomoTxIdIntSourceFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> xid()
+		{
+			StringAttribute<ParentOwnerType> result = this.xid;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("XID","","xid",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,86,true, false) :
+					new MappedStringAttribute(ReladomoTxIdIntSourceFinder.xid(), this.mapper, this.zGetValueSelector());
+				this.xid = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> flowId()
+		{
+			StringAttribute<ParentOwnerType> result = this.flowId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("FLOW_ID","","flowId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,60,true, false) :
+					new MappedStringAttribute(ReladomoTxIdIntSourceFinder.flowId(), this.mapper, this.zGetValueSelector());
+				this.flowId = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> committed()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.committed;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("\"COMMITTED\"","","committed",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(ReladomoTxIdIntSourceFinder.committed(), this.mapper, this.zGetValueSelector());
+				this.committed = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> source()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.source;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate(null,"","source",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReladomoTxIdIntSourceFinder.source(), this.mapper, this.zGetValueSelector());
+				this.source = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return ReladomoTxIdIntSourceFinder.source();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ReladomoTxIdIntSourceFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ReladomoTxIdIntSourceFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ReladomoTxIdIntSourceCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ReladomoTxIdIntSourceRelatedFinder<ParentOwnerType, ReturnType, ReladomoTxIdIntSourceList, OwnerType>
+	{
+		public ReladomoTxIdIntSourceCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ReladomoTxIdIntSourceCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ReladomoTxIdIntSourceCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReladomoTxIdIntSourceCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ReladomoTxIdIntSourceSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ReladomoTxIdIntSourceRelatedFinder<ParentOwnerType, ReturnType, ReladomoTxIdIntSourceList, OwnerType>
+	implements ToOneFinder
+	{
+		public ReladomoTxIdIntSourceSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ReladomoTxIdIntSourceSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ReladomoTxIdIntSource other)
+		{
+			return this.id().eq(other.getId())
+			.and(this.source().eq(other.getSource()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ReladomoTxIdIntSource findByPrimaryKey(int id, int source)
+		{
+			ReladomoTxIdIntSource _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				_bean.setI2AsInteger(source);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ReladomoTxIdIntSource) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.source().eq(source));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ReladomoTxIdIntSourceSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ReladomoTxIdIntSourceSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReladomoTxIdIntSourceSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to RELADOMO_TXID_IS.ID **/
+	public static IntegerAttribute<ReladomoTxIdIntSource> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to RELADOMO_TXID_IS.XID **/
+	public static StringAttribute<ReladomoTxIdIntSource> xid()
+	{
+		return finder.xid();
+	}
+
+	/** maps to RELADOMO_TXID_IS.FLOW_ID **/
+	public static StringAttribute<ReladomoTxIdIntSource> flowId()
+	{
+		return finder.flowId();
+	}
+
+	/** maps to RELADOMO_TXID_IS."COMMITTED" **/
+	public static BooleanAttribute<ReladomoTxIdIntSource> committed()
+	{
+		return finder.committed();
+	}
+
+	public static IntegerAttribute<ReladomoTxIdIntSource> source()
+	{
+		return finder.source();
+	}
+
+	public static Operation eq(ReladomoTxIdIntSource other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ReladomoTxIdIntSourceSingleFinder<ReladomoTxIdIntSource, Object, ReladomoTxIdIntSource> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, source()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, source()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.reladomo.txid.ReladomoTxIdIntSource");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(int source, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(source);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<Integer> sourceSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceSet, listener);
+	}
+}
@@ -0,0 +1,155 @@
+package com.gs.reladomo.txid;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ReladomoTxIdIntSourceListAbstract extends DelegatingList<ReladomoTxIdIntSource> implements MithraTransactionalList<ReladomoTxIdIntSource>
+{
+	public ReladomoTxIdIntSourceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ReladomoTxIdIntSourceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ReladomoTxIdIntSourceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ReladomoTxIdIntSourceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ReladomoTxIdIntSource[] elements()
+	{
+		ReladomoTxIdIntSource[] result = new ReladomoTxIdIntSource[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ReladomoTxIdIntSourceList intersection(ReladomoTxIdIntSourceList another)
+	{
+		return (ReladomoTxIdIntSourceList)super.intersection(another);
+	}
+
+	public ReladomoTxIdIntSource getReladomoTxIdIntSourceAt(int index)
+	{
+		return (ReladomoTxIdIntSource)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReladomoTxIdIntSourceFinder.getMithraObjectPortal();
+	}
+
+	public ReladomoTxIdIntSourceList getNonPersistentCopy()
+	{
+		ReladomoTxIdIntSourceList result = new ReladomoTxIdIntSourceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ReladomoTxIdIntSourceList asAdhoc()
+	{
+		return (ReladomoTxIdIntSourceList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ReladomoTxIdIntSource> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ReladomoTxIdIntSourceList merge(MithraTransactionalList<ReladomoTxIdIntSource> incoming, TopLevelMergeOptions<ReladomoTxIdIntSource> mergeOptions)
+	{
+		return (ReladomoTxIdIntSourceList) super.merge(incoming, mergeOptions);
+	}
+
+	public ReladomoTxIdIntSourceList getDetachedCopy()
+	{
+		ReladomoTxIdIntSourceList result = new ReladomoTxIdIntSourceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(ReladomoTxIdIntSourceFinder.id(), newValue);
+	}
+
+	public void setXid(String newValue)
+	{
+		zSetString(ReladomoTxIdIntSourceFinder.xid(), newValue);
+	}
+
+	public void setFlowId(String newValue)
+	{
+		zSetString(ReladomoTxIdIntSourceFinder.flowId(), newValue);
+	}
+
+	public void setCommitted(boolean newValue)
+	{
+		zSetBoolean(ReladomoTxIdIntSourceFinder.committed(), newValue);
+	}
+
+	public void setSource(int newValue)
+	{
+		zSetInteger(ReladomoTxIdIntSourceFinder.source(), newValue);
+	}
+
+	public void setCommittedNull()
+	{
+		zSetAttributeNull(ReladomoTxIdIntSourceFinder.committed());
+	}
+}
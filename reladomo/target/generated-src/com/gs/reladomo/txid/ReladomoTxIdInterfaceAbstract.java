@@ -0,0 +1,33 @@
+package com.gs.reladomo.txid;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.Operation;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.math.BigDecimal;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ReladomoTxIdInterfaceAbstract
+{
+	public String getXid();
+	public void setXid(String newValue);
+	public boolean isCommitted();
+	public void setCommitted(boolean newValue);
+	public int getId();
+	public void setId(int newValue);
+	public String getFlowId();
+	public void setFlowId(String newValue);
+}
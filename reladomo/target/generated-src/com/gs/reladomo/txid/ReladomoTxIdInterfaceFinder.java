@@ -0,0 +1,26 @@
+package com.gs.reladomo.txid;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ReladomoTxIdInterfaceFinder<Result> extends RelatedFinder<Result>
+{
+	public StringAttribute xid();
+	public BooleanAttribute committed();
+	public IntegerAttribute id();
+	public StringAttribute flowId();
+}
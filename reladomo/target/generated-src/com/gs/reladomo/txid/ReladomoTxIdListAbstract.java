@@ -0,0 +1,150 @@
+package com.gs.reladomo.txid;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ReladomoTxIdListAbstract extends DelegatingList<ReladomoTxId> implements MithraTransactionalList<ReladomoTxId>
+{
+	public ReladomoTxIdListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ReladomoTxIdListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ReladomoTxIdListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ReladomoTxIdListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ReladomoTxId[] elements()
+	{
+		ReladomoTxId[] result = new ReladomoTxId[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ReladomoTxIdList intersection(ReladomoTxIdList another)
+	{
+		return (ReladomoTxIdList)super.intersection(another);
+	}
+
+	public ReladomoTxId getReladomoTxIdAt(int index)
+	{
+		return (ReladomoTxId)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReladomoTxIdFinder.getMithraObjectPortal();
+	}
+
+	public ReladomoTxIdList getNonPersistentCopy()
+	{
+		ReladomoTxIdList result = new ReladomoTxIdList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ReladomoTxIdList asAdhoc()
+	{
+		return (ReladomoTxIdList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ReladomoTxId> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ReladomoTxIdList merge(MithraTransactionalList<ReladomoTxId> incoming, TopLevelMergeOptions<ReladomoTxId> mergeOptions)
+	{
+		return (ReladomoTxIdList) super.merge(incoming, mergeOptions);
+	}
+
+	public ReladomoTxIdList getDetachedCopy()
+	{
+		ReladomoTxIdList result = new ReladomoTxIdList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(ReladomoTxIdFinder.id(), newValue);
+	}
+
+	public void setXid(String newValue)
+	{
+		zSetString(ReladomoTxIdFinder.xid(), newValue);
+	}
+
+	public void setFlowId(String newValue)
+	{
+		zSetString(ReladomoTxIdFinder.flowId(), newValue);
+	}
+
+	public void setCommitted(boolean newValue)
+	{
+		zSetBoolean(ReladomoTxIdFinder.committed(), newValue);
+	}
+
+	public void setCommittedNull()
+	{
+		zSetAttributeNull(ReladomoTxIdFinder.committed());
+	}
+}
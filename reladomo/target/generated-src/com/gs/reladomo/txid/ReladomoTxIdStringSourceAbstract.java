@@ -0,0 +1,314 @@
+package com.gs.reladomo.txid;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ReladomoTxIdStringSourceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+implements
+ReladomoTxIdInterface
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ReladomoTxIdStringSource.class.getName());
+	public ReladomoTxIdStringSourceAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ReladomoTxIdStringSource getDetachedCopy() throws MithraBusinessException
+	{
+		return (ReladomoTxIdStringSource) super.getDetachedCopy();
+	}
+
+	public ReladomoTxIdStringSource getNonPersistentCopy() throws MithraBusinessException
+	{
+		ReladomoTxIdStringSource result = (ReladomoTxIdStringSource) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ReladomoTxIdStringSource copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ReladomoTxIdStringSource) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ReladomoTxIdStringSource zFindOriginal()
+	{
+		ReladomoTxIdStringSourceData data = (ReladomoTxIdStringSourceData) this.currentData;
+		Operation op;
+		op = ReladomoTxIdStringSourceFinder.id().eq(data.getId());
+		op = op.and(ReladomoTxIdStringSourceFinder.source().eq(data.getSource()));
+		return ReladomoTxIdStringSourceFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ReladomoTxIdStringSourceData();
+	}
+
+	protected void zSetFromReladomoTxIdStringSourceData( ReladomoTxIdStringSourceData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromReladomoTxIdStringSourceData( ReladomoTxIdStringSourceData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCommittedNull()
+	{
+		return ((ReladomoTxIdStringSourceData) this.zSynchronizedGetData()).isCommittedNull();
+	}
+
+	public boolean isCommitted()
+	{
+		ReladomoTxIdStringSourceData data = (ReladomoTxIdStringSourceData) this.zSynchronizedGetData();
+		if (data.isCommittedNull()) MithraNullPrimitiveException.throwNew("committed", data);
+		return data.isCommitted();
+	}
+
+	public void setCommitted(boolean newValue)
+	{
+		zSetBoolean(ReladomoTxIdStringSourceFinder.committed(), newValue, false, false ,true);
+	}
+
+	public boolean isFlowIdNull()
+	{
+		return ((ReladomoTxIdStringSourceData) this.zSynchronizedGetData()).isFlowIdNull();
+	}
+
+	public String getFlowId()
+	{
+		ReladomoTxIdStringSourceData data = (ReladomoTxIdStringSourceData) this.zSynchronizedGetData();
+		return data.getFlowId();
+	}
+
+	public void setFlowId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 60)
+		throw new MithraBusinessException("Attribute 'flowId' cannot exceed maximum length of 60: " + newValue);
+		zSetString(ReladomoTxIdStringSourceFinder.flowId(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((ReladomoTxIdStringSourceData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		ReladomoTxIdStringSourceData data = (ReladomoTxIdStringSourceData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(ReladomoTxIdStringSourceFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isSourceNull()
+	{
+		return ((ReladomoTxIdStringSourceData) this.zSynchronizedGetData()).isSourceNull();
+	}
+
+	public String getSource()
+	{
+		ReladomoTxIdStringSourceData data = (ReladomoTxIdStringSourceData) this.zSynchronizedGetData();
+		return data.getSource();
+	}
+
+	public void setSource(String newValue)
+	{
+		zSetString(ReladomoTxIdStringSourceFinder.source(), newValue, false, false );
+	}
+
+	public boolean isXidNull()
+	{
+		return ((ReladomoTxIdStringSourceData) this.zSynchronizedGetData()).isXidNull();
+	}
+
+	public String getXid()
+	{
+		ReladomoTxIdStringSourceData data = (ReladomoTxIdStringSourceData) this.zSynchronizedGetData();
+		return data.getXid();
+	}
+
+	public void setXid(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 86)
+		throw new MithraBusinessException("Attribute 'xid' cannot exceed maximum length of 86: " + newValue);
+		zSetString(ReladomoTxIdStringSourceFinder.xid(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ReladomoTxIdStringSourceFinder.committed(), false);
+	}
+
+	public void setCommittedNull()
+	{
+		zNullify(ReladomoTxIdStringSourceFinder.committed(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ReladomoTxIdStringSourceData _newData = (ReladomoTxIdStringSourceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ReladomoTxIdStringSourceData _newData = (ReladomoTxIdStringSourceData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ReladomoTxIdStringSourceData _newData = (ReladomoTxIdStringSourceData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ReladomoTxIdStringSource zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ReladomoTxIdStringSource original = (ReladomoTxIdStringSource) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ReladomoTxIdStringSourceFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReladomoTxIdStringSourceFinder.getMithraObjectPortal();
+	}
+
+	public ReladomoTxIdStringSource getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, ReladomoTxIdStringSourceFinder.committed(), false);
+		changed |= zUpdateString(behavior, data, newData, ReladomoTxIdStringSourceFinder.flowId(), false);
+		changed |= zUpdateString(behavior, data, newData, ReladomoTxIdStringSourceFinder.xid(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ReladomoTxIdStringSourceFinder.id(), false);
+		changed |= zUpdateString(behavior, data, newData, ReladomoTxIdStringSourceFinder.source(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ReladomoTxIdStringSourceAbstract result = (ReladomoTxIdStringSourceAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
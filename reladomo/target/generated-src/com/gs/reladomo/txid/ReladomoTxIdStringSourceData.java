@@ -0,0 +1,390 @@
+package com.gs.reladomo.txid;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReladomoTxIdStringSourceData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private boolean committed;
+	private String flowId;
+	private int id;
+	private String source;
+	private String xid;
+	public boolean isFlowIdNull()
+	{
+		return this.getFlowId() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSourceNull()
+	{
+		return this.getSource() == null;
+	}
+
+	public boolean isXidNull()
+	{
+		return this.getXid() == null;
+	}
+
+	public boolean isCommittedNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.committed);
+		out.writeObject(this.flowId);
+		out.writeInt(this.id);
+		out.writeObject(this.source);
+		out.writeObject(this.xid);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public boolean isCommitted()
+	{
+		return this.committed;
+	}
+
+	public void setCommitted(boolean value)
+	{
+		this.committed = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getFlowId()
+	{
+		return this.flowId;
+	}
+
+	public int zGetFlowIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(flowId);
+	}
+
+	public void setFlowId(String value)
+	{
+		this.flowId = StringPool.getInstance().getOrAddToCache(value, ReladomoTxIdStringSourceFinder.isFullCache());
+	}
+
+	public void setFlowIdNull()
+	{
+		this.setFlowId(null);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getSource()
+	{
+		return this.source;
+	}
+
+	public int zGetSourceAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(source);
+	}
+
+	public void setSource(String value)
+	{
+		this.source = StringPool.getInstance().getOrAddToCache(value, ReladomoTxIdStringSourceFinder.isFullCache());
+	}
+
+	public void setSourceNull()
+	{
+		this.setSource(null);
+	}
+
+	public String getXid()
+	{
+		return this.xid;
+	}
+
+	public int zGetXidAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(xid);
+	}
+
+	public void setXid(String value)
+	{
+		this.xid = StringPool.getInstance().getOrAddToCache(value, ReladomoTxIdStringSourceFinder.isFullCache());
+	}
+
+	public void setXidNull()
+	{
+		this.setXid(null);
+	}
+
+	public void setCommittedNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ReladomoTxIdStringSourceData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.committed = this.committed;
+		copy.flowId = this.flowId;
+		copy.id = this.id;
+		copy.source = this.source;
+		copy.xid = this.xid;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.committed = in.readBoolean();
+		this.flowId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ReladomoTxIdStringSourceFinder.isFullCache());
+		this.id = in.readInt();
+		this.source = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ReladomoTxIdStringSourceFinder.isFullCache());
+		this.xid = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ReladomoTxIdStringSourceFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ReladomoTxIdStringSourceData otherData = (ReladomoTxIdStringSourceData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		if (!isSourceNull() ? !getSource().equals(otherData.getSource()) : !otherData.isSourceNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+		out.writeObject(this.source);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+		this.source = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ReladomoTxIdStringSourceFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ReladomoTxIdStringSourceData reladomoTxIdStringSourceData = (ReladomoTxIdStringSourceData) newData;
+		this.setCommitted(reladomoTxIdStringSourceData.isCommitted());
+		if (reladomoTxIdStringSourceData.isCommittedNull()) this.setCommittedNull();
+		this.setFlowId(reladomoTxIdStringSourceData.getFlowId());
+		this.setSource(reladomoTxIdStringSourceData.getSource());
+		this.setXid(reladomoTxIdStringSourceData.getXid());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ReladomoTxIdStringSourceData other = (ReladomoTxIdStringSourceData) newData;
+		if ( isCommittedNull() != other.isCommittedNull() || isCommitted() != other.isCommitted())
+		{
+			return true;
+		}
+
+		if (!isFlowIdNull() ? !getFlowId().equals(other.getFlowId()) : !other.isFlowIdNull())
+		{
+			return true;
+		}
+
+		if (!isSourceNull() ? !getSource().equals(other.getSource()) : !other.isSourceNull())
+		{
+			return true;
+		}
+
+		if (!isXidNull() ? !getXid().equals(other.getXid()) : !other.isXidNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ReladomoTxIdStringSourceData copy = new ReladomoTxIdStringSourceData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ReladomoTxIdStringSourceData copy = new ReladomoTxIdStringSourceData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		result += "source: "+"'"+getSource()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.reladomo.txid.ReladomoTxIdStringSourceData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ReladomoTxIdStringSourceFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ReladomoTxIdStringSourceFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.reladomo.txid.ReladomoTxIdStringSourceData";
+	}
+}
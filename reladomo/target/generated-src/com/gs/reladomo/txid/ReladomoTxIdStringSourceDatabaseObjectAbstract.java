@@ -0,0 +1,442 @@
+package com.gs.reladomo.txid;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ReladomoTxIdStringSourceDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "XID,FLOW_ID,\"COMMITTED\"";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.XID,t0.FLOW_ID,t0.\"COMMITTED\"";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected ReladomoTxIdStringSourceDatabaseObjectAbstract()
+	{
+		super("ReladomoTxIdStringSource", "com.gs.reladomo.txid.ReladomoTxIdStringSourceFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReladomoTxIdStringSourceFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ReladomoTxIdStringSourceFinder.getFinderInstance();
+	}
+
+	public static ReladomoTxIdStringSourceData allocateOnHeapData()
+	{
+		return new ReladomoTxIdStringSourceData();
+	}
+
+	public static ReladomoTxIdStringSourceData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ReladomoTxIdStringSourceData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ReladomoTxIdStringSourceData data = new ReladomoTxIdStringSourceData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(ReladomoTxIdStringSourceFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdStringSourceFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(ReladomoTxIdStringSourceFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdStringSourceFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(ReladomoTxIdStringSourceFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdStringSourceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(ReladomoTxIdStringSourceFinder.getPrimaryKeyAttributes(), this, ReladomoTxIdStringSourceFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ReladomoTxIdStringSourceFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ReladomoTxIdStringSourceFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ReladomoTxIdStringSource.zConfigFullTx();
+		}
+		else
+		{
+			ReladomoTxIdStringSource.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		ReladomoTxIdStringSourceData data = (ReladomoTxIdStringSourceData)object;
+		return data.getSource();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateReladomoTxIdStringSourceData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkReladomoTxIdStringSourceData(1, (ReladomoTxIdStringSourceData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateReladomoTxIdStringSourcePkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getReladomoTxIdStringSourceTableName(((String)source));
+	}
+
+	public String getReladomoTxIdStringSourceTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ReladomoTxIdStringSourceData data = (ReladomoTxIdStringSourceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.XID,t0.FLOW_ID,t0.\"COMMITTED\"";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("XID");
+		result.append(",").append(databaseAlias).append(".").append("FLOW_ID");
+		result.append(",").append(databaseAlias).append(".").append("\"COMMITTED\"");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ReladomoTxIdStringSourceData inflateReladomoTxIdStringSourceData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		ReladomoTxIdStringSourceData data = inflateReladomoTxIdStringSourcePkData(rs, dt, sourceAttribute);
+		inflateNonPkReladomoTxIdStringSourceData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public ReladomoTxIdStringSourceData inflateReladomoTxIdStringSourcePkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		ReladomoTxIdStringSourceData _data = new ReladomoTxIdStringSourceData();
+		int _pos = 1;
+		_data.setSource(sourceAttribute);
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkReladomoTxIdStringSourceData(int _pos, ReladomoTxIdStringSourceData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			ReladomoTxIdStringSourceData _data = _datax;
+			_data.setXid(trimString(_rs.getString(_pos++)));
+			_data.setFlowId(trimString(_rs.getString(_pos++)));
+			_data.setCommitted(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCommittedNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "RELADOMO_TXID_SS";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ReladomoTxIdStringSourceData data = (ReladomoTxIdStringSourceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		if (data.isXidNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getXid());
+		}
+
+		if (data.isFlowIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getFlowId());
+		}
+
+		if (data.isCommittedNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isCommitted());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,XID,FLOW_ID,\"COMMITTED\"";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ReladomoTxIdStringSource newObject = new ReladomoTxIdStringSource();
+		newObject.zSetFromReladomoTxIdStringSourceData((ReladomoTxIdStringSourceData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ID");
+		return result.toString();
+	}
+}
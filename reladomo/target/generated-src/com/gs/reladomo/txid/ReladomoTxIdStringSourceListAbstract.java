@@ -0,0 +1,155 @@
+package com.gs.reladomo.txid;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ReladomoTxIdStringSourceListAbstract extends DelegatingList<ReladomoTxIdStringSource> implements MithraTransactionalList<ReladomoTxIdStringSource>
+{
+	public ReladomoTxIdStringSourceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ReladomoTxIdStringSourceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ReladomoTxIdStringSourceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ReladomoTxIdStringSourceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ReladomoTxIdStringSource[] elements()
+	{
+		ReladomoTxIdStringSource[] result = new ReladomoTxIdStringSource[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ReladomoTxIdStringSourceList intersection(ReladomoTxIdStringSourceList another)
+	{
+		return (ReladomoTxIdStringSourceList)super.intersection(another);
+	}
+
+	public ReladomoTxIdStringSource getReladomoTxIdStringSourceAt(int index)
+	{
+		return (ReladomoTxIdStringSource)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReladomoTxIdStringSourceFinder.getMithraObjectPortal();
+	}
+
+	public ReladomoTxIdStringSourceList getNonPersistentCopy()
+	{
+		ReladomoTxIdStringSourceList result = new ReladomoTxIdStringSourceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ReladomoTxIdStringSourceList asAdhoc()
+	{
+		return (ReladomoTxIdStringSourceList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ReladomoTxIdStringSource> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ReladomoTxIdStringSourceList merge(MithraTransactionalList<ReladomoTxIdStringSource> incoming, TopLevelMergeOptions<ReladomoTxIdStringSource> mergeOptions)
+	{
+		return (ReladomoTxIdStringSourceList) super.merge(incoming, mergeOptions);
+	}
+
+	public ReladomoTxIdStringSourceList getDetachedCopy()
+	{
+		ReladomoTxIdStringSourceList result = new ReladomoTxIdStringSourceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(ReladomoTxIdStringSourceFinder.id(), newValue);
+	}
+
+	public void setXid(String newValue)
+	{
+		zSetString(ReladomoTxIdStringSourceFinder.xid(), newValue);
+	}
+
+	public void setFlowId(String newValue)
+	{
+		zSetString(ReladomoTxIdStringSourceFinder.flowId(), newValue);
+	}
+
+	public void setCommitted(boolean newValue)
+	{
+		zSetBoolean(ReladomoTxIdStringSourceFinder.committed(), newValue);
+	}
+
+	public void setSource(String newValue)
+	{
+		zSetString(ReladomoTxIdStringSourceFinder.source(), newValue);
+	}
+
+	public void setCommittedNull()
+	{
+		zSetAttributeNull(ReladomoTxIdStringSourceFinder.committed());
+	}
+}
@@ -0,0 +1,719 @@
+package com.gs.fw.common.mithra.test;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class FundingBalanceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		FundingBalanceFinder.businessDate()
+	,
+		FundingBalanceFinder.processingDate()
+	, FundingBalanceFinder.zGetDoubleAttributes(),FundingBalanceFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(FundingBalance.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public FundingBalanceAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, FundingBalanceFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, FundingBalanceFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public FundingBalanceAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public FundingBalanceData zSynchronizedGetData()
+	{
+		return (FundingBalanceData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !FundingBalanceFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !FundingBalanceFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public FundingBalance zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		FundingBalance original = (FundingBalance) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public FundingBalance copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (FundingBalance) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public FundingBalance copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (FundingBalance) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			FundingBalanceFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public FundingBalance getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		FundingBalanceAbstract result = (FundingBalanceAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (FundingBalance ) result;
+	}
+
+	public FundingBalance zFindOriginal()
+	{
+		FundingBalanceData data = (FundingBalanceData) this.currentData;
+		Operation op;
+		op = FundingBalanceFinder.accountId().eq(data.getAccountId());
+		op = op.and(FundingBalanceFinder.productId().eq(data.getProductId()));
+		op = op.and(FundingBalanceFinder.positionType().eq(data.getPositionType()));
+		op = op.and(FundingBalanceFinder.currency().eq(data.getCurrency()));
+		op = op.and(FundingBalanceFinder.balanceType().eq(data.getBalanceType()));
+		op = op.and(FundingBalanceFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(FundingBalanceFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(FundingBalanceFinder.processingDate().eq(this.getProcessingDate()));
+		return FundingBalanceFinder.findOne(op);
+	}
+
+	public FundingBalance getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		FundingBalanceAbstract result = (FundingBalanceAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (FundingBalance ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public FundingBalance copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (FundingBalance) behavior.updateOriginalOrInsert(this);
+	}
+
+	public FundingBalance copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (FundingBalance) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			FundingBalanceData data = (FundingBalanceData) this.currentData;
+			Operation op = FundingBalanceFinder.businessDate().eq(this.businessDate);
+			op = op.and(FundingBalanceFinder.processingDate().eq(this.processingDate));
+			op = op.and(FundingBalanceFinder.accountId().eq(data.getAccountId()));
+			op = op.and(FundingBalanceFinder.balanceType().eq(data.getBalanceType()));
+			op = op.and(FundingBalanceFinder.currency().eq(data.getCurrency()));
+			op = op.and(FundingBalanceFinder.positionType().eq(data.getPositionType()));
+			op = op.and(FundingBalanceFinder.productId().eq(data.getProductId()));
+			op = op.and(FundingBalanceFinder.acmapCode().eq(data.getAcmapCode()));
+			return FundingBalanceFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		FundingBalanceData data = (FundingBalanceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && FundingBalanceFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		FundingBalanceData data = (FundingBalanceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return this.zSynchronizedGetData().isAccountIdNull();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceTypeNull()
+	{
+		return this.zSynchronizedGetData().isBalanceTypeNull();
+	}
+
+	public boolean isBalanceValueNull()
+	{
+		return this.zSynchronizedGetData().isBalanceValueNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.zSynchronizedGetData().isCurrencyNull();
+	}
+
+	public boolean isPositionTypeNull()
+	{
+		return this.zSynchronizedGetData().isPositionTypeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public String getAccountId()
+	{
+		return this.zSynchronizedGetData().getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(FundingBalanceFinder.accountId(), newValue, true );
+	}
+
+	public void setAccountIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(FundingBalanceFinder.accountId(), newValue, true , exclusiveUntil);
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(FundingBalanceFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(FundingBalanceFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public int getBalanceType()
+	{
+		return this.zSynchronizedGetData().getBalanceType();
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(FundingBalanceFinder.balanceType(), newValue, true ,false);
+	}
+
+	public void setBalanceTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(FundingBalanceFinder.balanceType(), newValue, true , exclusiveUntil,false);
+	}
+
+	public double getBalanceValue()
+	{
+		FundingBalanceData data = this.zSynchronizedGetData();
+		if (data.isBalanceValueNull()) MithraNullPrimitiveException.throwNew("balanceValue", data);
+		return data.getBalanceValue();
+	}
+
+	public void setBalanceValue(double newValue)
+	{
+		zSetDouble(FundingBalanceFinder.balanceValue(), newValue, false ,true);
+	}
+
+	public void setBalanceValueUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(FundingBalanceFinder.balanceValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementBalanceValue(double increment)
+	{
+		zIncrement(increment, FundingBalanceFinder.balanceValue(), false);
+	}
+
+	public void incrementBalanceValueUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, FundingBalanceFinder.balanceValue(), false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(FundingBalanceFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(FundingBalanceFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getCurrency()
+	{
+		return this.zSynchronizedGetData().getCurrency();
+	}
+
+	public void setCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(FundingBalanceFinder.currency(), newValue, true );
+	}
+
+	public void setCurrencyUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(FundingBalanceFinder.currency(), newValue, true , exclusiveUntil);
+	}
+
+	public int getPositionType()
+	{
+		return this.zSynchronizedGetData().getPositionType();
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(FundingBalanceFinder.positionType(), newValue, true ,false);
+	}
+
+	public void setPositionTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(FundingBalanceFinder.positionType(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(FundingBalanceFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(FundingBalanceFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		return this.zSynchronizedGetData().getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(FundingBalanceFinder.productId(), newValue, true ,false);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(FundingBalanceFinder.productId(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, FundingBalanceFinder.balanceValue(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		FundingBalanceData data2 = (FundingBalanceData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && FundingBalanceFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setBalanceValueNull()
+	{
+		zNullify(FundingBalanceFinder.balanceValue(), false);
+	}
+
+	public void setBalanceValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(FundingBalanceFinder.balanceValue(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		FundingBalanceData _newData = (FundingBalanceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		FundingBalanceData _newData = (FundingBalanceData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		FundingBalanceData _newData = (FundingBalanceData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return FundingBalanceFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new FundingBalanceData.FundingBalanceDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		FundingBalanceData data = (FundingBalanceData) FundingBalanceFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("FundingBalance has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromFundingBalanceData( FundingBalanceData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromFundingBalanceData( FundingBalanceData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) FundingBalanceFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return FundingBalanceFinder.getMithraObjectPortal();
+	}
+
+	public FundingBalance getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(FundingBalanceAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		FundingBalanceAbstract from = (FundingBalanceAbstract) f;
+		FundingBalanceData newData = from.zSynchronizedGetData();
+		if (from.isBalanceValueNull())
+		{
+			this.setBalanceValueNull();
+		}
+		else
+		{
+			this.setBalanceValue(newData.getBalanceValue());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		FundingBalanceData _newData = (FundingBalanceData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		FundingBalanceData _newData = (FundingBalanceData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(FundingBalanceAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		FundingBalanceAbstract from = (FundingBalanceAbstract)f;
+		FundingBalanceData newData = from.zSynchronizedGetData();
+		if (from.isBalanceValueNull())
+		{
+			this.setBalanceValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setBalanceValueUntil(newData.getBalanceValue(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		FundingBalanceData newData = (FundingBalanceData) d;
+		FundingBalanceData data = (FundingBalanceData) nd;
+		if (FundingBalanceFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, FundingBalanceFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, FundingBalanceFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, FundingBalanceFinder.balanceType(), false);
+		changed |= zUpdateDouble(behavior, data, newData, FundingBalanceFinder.balanceValue(), false);
+		changed |= zUpdateString(behavior, data, newData, FundingBalanceFinder.currency(), false);
+		changed |= zUpdateInteger(behavior, data, newData, FundingBalanceFinder.positionType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, FundingBalanceFinder.productId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, FundingBalanceFinder.accountId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, FundingBalanceFinder.acmapCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, FundingBalanceFinder.balanceType(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, FundingBalanceFinder.balanceValue(), false, until);
+		changed |= zUpdateString(behavior, data, newData, FundingBalanceFinder.currency(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, FundingBalanceFinder.positionType(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, FundingBalanceFinder.productId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		FundingBalanceData data = ((FundingBalanceData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		FundingBalanceData data = ((FundingBalanceData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		FundingBalanceData data = ((FundingBalanceData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity()), FundingBalanceFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity()), FundingBalanceFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		FundingBalanceData localData = (FundingBalanceData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1361 @@
+package com.gs.fw.common.mithra.test;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface FundingBalanceData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 72;
+	boolean isAccountIdNull();
+	String getAccountId();
+	void setAccountId(String value);
+	void setAccountIdNull();
+	int zGetAccountIdAsInt();
+	boolean isAcmapCodeNull();
+	String getAcmapCode();
+	void setAcmapCode(String value);
+	void setAcmapCodeNull();
+	int zGetAcmapCodeAsInt();
+	boolean isBalanceTypeNull();
+	int getBalanceType();
+	void setBalanceType(int value);
+	void setBalanceTypeNull();
+	boolean isBalanceValueNull();
+	double getBalanceValue();
+	void setBalanceValue(double value);
+	void setBalanceValueNull();
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isCurrencyNull();
+	String getCurrency();
+	void setCurrency(String value);
+	void setCurrencyNull();
+	int zGetCurrencyAsInt();
+	boolean isPositionTypeNull();
+	int getPositionType();
+	void setPositionType(int value);
+	void setPositionTypeNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isProductIdNull();
+	int getProductId();
+	void setProductId(int value);
+	void setProductIdNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class FundingBalanceDataOnHeap implements FundingBalanceData
+	{
+		private byte _dataVersion;
+		private byte isNullBits0 = 0;
+		private String accountId;
+		private String acmapCode;
+		private int balanceType;
+		private double balanceValue;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private String currency;
+		private int positionType;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int productId;
+		public boolean isAccountIdNull()
+		{
+			return this.getAccountId() == null;
+		}
+
+		public boolean isAcmapCodeNull()
+		{
+			return this.getAcmapCode() == null;
+		}
+
+		public boolean isBalanceTypeNull()
+		{
+			return false;
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isCurrencyNull()
+		{
+			return this.getCurrency() == null;
+		}
+
+		public boolean isPositionTypeNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isProductIdNull()
+		{
+			return false;
+		}
+
+		public boolean isBalanceValueNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.accountId);
+			out.writeObject(this.acmapCode);
+			out.writeInt(this.balanceType);
+			out.writeDouble(this.balanceValue);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, FundingBalanceFinder.businessDate().getInfinityDate());
+			out.writeObject(this.currency);
+			out.writeInt(this.positionType);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, FundingBalanceFinder.processingDate().getInfinityDate());
+			out.writeInt(this.productId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public String getAccountId()
+		{
+			return this.accountId;
+		}
+
+		public int zGetAccountIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountId);
+		}
+
+		public void setAccountId(String value)
+		{
+			this.accountId = StringPool.getInstance().getOrAddToCache(value, FundingBalanceFinder.isFullCache());
+		}
+
+		public void setAccountIdNull()
+		{
+			this.setAccountId(null);
+		}
+
+		public String getAcmapCode()
+		{
+			return this.acmapCode;
+		}
+
+		public int zGetAcmapCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(acmapCode);
+		}
+
+		public void setAcmapCode(String value)
+		{
+			this.acmapCode = StringPool.getInstance().getOrAddToCache(value, FundingBalanceFinder.isFullCache());
+		}
+
+		public void setAcmapCodeNull()
+		{
+			this.setAcmapCode(null);
+		}
+
+		public int getBalanceType()
+		{
+			return this.balanceType;
+		}
+
+		public void setBalanceType(int value)
+		{
+			this.balanceType = value;
+		}
+
+		public void setBalanceTypeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getBalanceValue()
+		{
+			return this.balanceValue;
+		}
+
+		public void setBalanceValue(double value)
+		{
+			this.balanceValue = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCurrency()
+		{
+			return this.currency;
+		}
+
+		public int zGetCurrencyAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(currency);
+		}
+
+		public void setCurrency(String value)
+		{
+			this.currency = StringPool.getInstance().getOrAddToCache(value, FundingBalanceFinder.isFullCache());
+		}
+
+		public void setCurrencyNull()
+		{
+			this.setCurrency(null);
+		}
+
+		public int getPositionType()
+		{
+			return this.positionType;
+		}
+
+		public void setPositionType(int value)
+		{
+			this.positionType = value;
+		}
+
+		public void setPositionTypeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProductId()
+		{
+			return this.productId;
+		}
+
+		public void setProductId(int value)
+		{
+			this.productId = value;
+		}
+
+		public void setProductIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public void setBalanceValueNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(FundingBalanceDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.accountId = this.accountId;
+			copy.acmapCode = this.acmapCode;
+			copy.balanceType = this.balanceType;
+			copy.balanceValue = this.balanceValue;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.currency = this.currency;
+			copy.positionType = this.positionType;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.productId = this.productId;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FundingBalanceFinder.isFullCache());
+			this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FundingBalanceFinder.isFullCache());
+			this.balanceType = in.readInt();
+			this.balanceValue = in.readDouble();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, FundingBalanceFinder.businessDate().getInfinityDate()), FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+			this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FundingBalanceFinder.isFullCache());
+			this.positionType = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, FundingBalanceFinder.processingDate().getInfinityDate()), FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+			this.productId = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final FundingBalanceData otherData = (FundingBalanceData) other;
+			if (!isAccountIdNull() ? !getAccountId().equals(otherData.getAccountId()) : !otherData.isAccountIdNull())
+			{
+				return false;
+			}
+
+			if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+			{
+				return false;
+			}
+
+			if (getBalanceType() != otherData.getBalanceType())
+			{
+				return false;
+			}
+
+			if (!isCurrencyNull() ? !getCurrency().equals(otherData.getCurrency()) : !otherData.isCurrencyNull())
+			{
+				return false;
+			}
+
+			if (getPositionType() != otherData.getPositionType())
+			{
+				return false;
+			}
+
+			if (getProductId() != otherData.getProductId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.accountId);
+			out.writeObject(this.acmapCode);
+			out.writeInt(this.balanceType);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, FundingBalanceFinder.businessDate().getInfinityDate());
+			out.writeObject(this.currency);
+			out.writeInt(this.positionType);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, FundingBalanceFinder.processingDate().getInfinityDate());
+			out.writeInt(this.productId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FundingBalanceFinder.isFullCache());
+			this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FundingBalanceFinder.isFullCache());
+			this.balanceType = in.readInt();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, FundingBalanceFinder.businessDate().getInfinityDate()), FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+			this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FundingBalanceFinder.isFullCache());
+			this.positionType = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, FundingBalanceFinder.processingDate().getInfinityDate()), FundingBalanceFinder.isFullCache(), FundingBalanceFinder.isOffHeap());
+			this.productId = in.readInt();
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			FundingBalanceDataOffHeap data = new FundingBalanceDataOffHeap();
+			data.setAccountId(this.getAccountId());
+			data.setAcmapCode(this.getAcmapCode());
+			data.setBalanceType(this.getBalanceType());
+			data.setBalanceValue(this.getBalanceValue());
+			if (this.isBalanceValueNull()) data.setBalanceValueNull();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setCurrency(this.getCurrency());
+			data.setPositionType(this.getPositionType());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setProductId(this.getProductId());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final FundingBalanceData fundingBalanceData = (FundingBalanceData) newData;
+			this.setAcmapCode(fundingBalanceData.getAcmapCode());
+			this.setBalanceValue(fundingBalanceData.getBalanceValue());
+			if (fundingBalanceData.isBalanceValueNull()) this.setBalanceValueNull();
+			this.setBusinessDateFrom(fundingBalanceData.getBusinessDateFrom());
+			this.setBusinessDateTo(fundingBalanceData.getBusinessDateTo());
+			this.setProcessingDateFrom(fundingBalanceData.getProcessingDateFrom());
+			this.setProcessingDateTo(fundingBalanceData.getProcessingDateTo());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final FundingBalanceData other = (FundingBalanceData) newData;
+			if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+			{
+				return true;
+			}
+
+			if ( isBalanceValueNull() != other.isBalanceValueNull() || Math.abs(getBalanceValue() - other.getBalanceValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			FundingBalanceDataOnHeap copy = new FundingBalanceDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			FundingBalanceDataOnHeap copy = new FundingBalanceDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+			result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+			result += "balanceType: "+(""+getBalanceType())+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "currency: "+"'"+getCurrency()+"'"+ " / ";
+			result += "positionType: "+(""+getPositionType())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "productId: "+(""+getProductId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			FundingBalanceData otherData = (FundingBalanceData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			FundingBalanceData otherData = (FundingBalanceData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.FundingBalanceData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return FundingBalanceFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return FundingBalanceFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.FundingBalanceData";
+		}
+	}
+
+	public class FundingBalanceDataOffHeap extends MithraOffHeapDataObject implements FundingBalanceData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public FundingBalanceDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 40);
+			this.zSetTimestamp(_storage, value, 48);
+			this.zSetTimestamp(_storage, value, 56);
+			this.zSetTimestamp(_storage, value, 64);
+		}
+
+		public FundingBalanceDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccountIdNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isAcmapCodeNull()
+		{
+			return zIsStringNull(_storage, 8);
+		}
+
+		public boolean isBalanceTypeNull()
+		{
+			return false;
+		}
+
+		public boolean isBalanceValueNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 48);
+		}
+
+		public boolean isCurrencyNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isPositionTypeNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 56);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 64);
+		}
+
+		public boolean isProductIdNull()
+		{
+			return false;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAccountId());
+			out.writeObject(this.getAcmapCode());
+			out.writeInt(this.getBalanceType());
+			out.writeDouble(this.getBalanceValue());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), FundingBalanceFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getCurrency());
+			out.writeInt(this.getPositionType());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), FundingBalanceFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getProductId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isBalanceValueNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public String getAccountId()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetAccountIdAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setAccountId(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setAccountIdNull()
+		{
+			this.setAccountId(null);
+		}
+
+		public String getAcmapCode()
+		{
+			return zGetString(_storage, 8);
+		}
+
+		public int zGetAcmapCodeAsInt()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setAcmapCode(String value)
+		{
+			zSetString(_storage, value, 8);
+		}
+
+		public void setAcmapCodeNull()
+		{
+			this.setAcmapCode(null);
+		}
+
+		public int getBalanceType()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setBalanceType(int value)
+		{
+			zSetInteger(_storage, value, 16, -1, -1);
+		}
+
+		public void setBalanceTypeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getBalanceValue()
+		{
+			return zGetDouble(_storage, 32);
+		}
+
+		public void setBalanceValue(double value)
+		{
+			zSetDouble(_storage, value, 32, 4, 0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 48);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 48);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 48);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCurrency()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetCurrencyAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setCurrency(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setCurrencyNull()
+		{
+			this.setCurrency(null);
+		}
+
+		public int getPositionType()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setPositionType(int value)
+		{
+			zSetInteger(_storage, value, 24, -1, -1);
+		}
+
+		public void setPositionTypeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 56);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 56);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 56);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 64);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 64);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 64);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProductId()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setProductId(int value)
+		{
+			zSetInteger(_storage, value, 28, -1, -1);
+		}
+
+		public void setProductIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public void setBalanceValueNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(FundingBalanceDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountId = this.getAccountId();
+			copy.acmapCode = this.getAcmapCode();
+			copy.balanceType = this.getBalanceType();
+			copy.balanceValue = this.getBalanceValue();
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.currency = this.getCurrency();
+			copy.positionType = this.getPositionType();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.productId = this.getProductId();
+			if (isBalanceValueNull())
+			{
+				copy.setBalanceValueNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetInteger(_storage, in.readInt(), 16, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 32, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 24, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 56);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 64);
+			zSetInteger(_storage, in.readInt(), 28, -1, -1, false);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof FundingBalanceDataOffHeap)
+			{
+				final FundingBalanceDataOffHeap otherData = (FundingBalanceDataOffHeap) other;
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 16) != otherData.zGetInteger(_storage, 16))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 20) != otherData.zGetInteger(_storage, 20))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 24) != otherData.zGetInteger(_storage, 24))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 28) != otherData.zGetInteger(_storage, 28))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final FundingBalanceData otherData = (FundingBalanceData) other;
+			if (!isAccountIdNull() ? !getAccountId().equals(otherData.getAccountId()) : !otherData.isAccountIdNull())
+			{
+				return false;
+			}
+
+			if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+			{
+				return false;
+			}
+
+			if (getBalanceType() != otherData.getBalanceType())
+			{
+				return false;
+			}
+
+			if (!isCurrencyNull() ? !getCurrency().equals(otherData.getCurrency()) : !otherData.isCurrencyNull())
+			{
+				return false;
+			}
+
+			if (getPositionType() != otherData.getPositionType())
+			{
+				return false;
+			}
+
+			if (getProductId() != otherData.getProductId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.getAccountId());
+			out.writeObject(this.getAcmapCode());
+			out.writeInt(this.getBalanceType());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), FundingBalanceFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getCurrency());
+			out.writeInt(this.getPositionType());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), FundingBalanceFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getProductId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetInteger(_storage, in.readInt(), 16, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 24, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 56);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 64);
+			zSetInteger(_storage, in.readInt(), 28, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final FundingBalanceData fundingBalanceData = (FundingBalanceData) newData;
+			this.setAcmapCode(fundingBalanceData.getAcmapCode());
+			this.setBalanceValue(fundingBalanceData.getBalanceValue());
+			if (fundingBalanceData.isBalanceValueNull()) this.setBalanceValueNull();
+			this.setBusinessDateFrom(fundingBalanceData.getBusinessDateFrom());
+			this.setBusinessDateTo(fundingBalanceData.getBusinessDateTo());
+			this.setProcessingDateFrom(fundingBalanceData.getProcessingDateFrom());
+			this.setProcessingDateTo(fundingBalanceData.getProcessingDateTo());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final FundingBalanceData other = (FundingBalanceData) newData;
+			if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+			{
+				return true;
+			}
+
+			if ( isBalanceValueNull() != other.isBalanceValueNull() || Math.abs(getBalanceValue() - other.getBalanceValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			FundingBalanceDataOnHeap copy = new FundingBalanceDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			FundingBalanceDataOnHeap copy = new FundingBalanceDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+			result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+			result += "balanceType: "+(""+getBalanceType())+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "currency: "+"'"+getCurrency()+"'"+ " / ";
+			result += "positionType: "+(""+getPositionType())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "productId: "+(""+getProductId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			FundingBalanceData otherData = (FundingBalanceData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			FundingBalanceData otherData = (FundingBalanceData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.FundingBalanceData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return FundingBalanceFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return FundingBalanceFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.FundingBalanceData";
+		}
+	}
+}
@@ -0,0 +1,616 @@
+package com.gs.fw.common.mithra.test;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class FundingBalanceDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "POS_BAL_M,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.POS_BAL_M,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ACCT_NBR_C = ? AND t0.PROD_I = ? AND t0.POS_TYP_C = ? AND t0.PROD_CURR_C = ? AND t0.POS_BAL_TYP_C = ?";
+	private static final String PK_INDEX_COLS = "ACCT_NBR_C,PROD_I,POS_TYP_C,PROD_CURR_C,POS_BAL_TYP_C";
+	protected FundingBalanceDatabaseObjectAbstract()
+	{
+		super("FundingBalance", "com.gs.fw.common.mithra.test.FundingBalanceFinder",
+			10, 10,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return FundingBalanceFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return FundingBalanceFinder.getFinderInstance();
+	}
+
+	public static FundingBalanceData allocateOnHeapData()
+	{
+		return new FundingBalanceData.FundingBalanceDataOnHeap();
+	}
+
+	public static FundingBalanceData allocateOffHeapData()
+	{
+		return new FundingBalanceData.FundingBalanceDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new FundingBalanceData.FundingBalanceDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity()), FundingBalanceFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity()), FundingBalanceFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		FundingBalanceData data = new FundingBalanceData.FundingBalanceDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity()), FundingBalanceFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity()), FundingBalanceFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(FundingBalanceData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.FundingBalance", FundingBalanceFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("FundingBalance"));
+			FundingBalanceData.FundingBalanceDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(FundingBalanceFinder.getPrimaryKeyAttributes(), FundingBalanceFinder.getAsOfAttributes(), this, FundingBalanceFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(FundingBalanceFinder.getPrimaryKeyAttributes(), FundingBalanceFinder.getAsOfAttributes(), this, FundingBalanceFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(FundingBalanceFinder.getPrimaryKeyAttributes(), FundingBalanceFinder.getAsOfAttributes(), this, FundingBalanceFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(FundingBalanceFinder.getPrimaryKeyAttributes(), FundingBalanceFinder.getAsOfAttributes(), this, FundingBalanceFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(FundingBalanceFinder.getPrimaryKeyAttributes(), FundingBalanceFinder.getAsOfAttributes(), this, FundingBalanceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(FundingBalanceData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.FundingBalance", FundingBalanceFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			FundingBalanceData.FundingBalanceDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(FundingBalanceFinder.getPrimaryKeyAttributes(), FundingBalanceFinder.getAsOfAttributes(), this, FundingBalanceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(FundingBalanceFinder.getPrimaryKeyAttributes(), FundingBalanceFinder.getAsOfAttributes(), this, FundingBalanceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			FundingBalanceFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			FundingBalanceFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			FundingBalance.zConfigFullTx();
+		}
+		else
+		{
+			FundingBalance.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		FundingBalanceData data = (FundingBalanceData)object;
+		return data.getAcmapCode();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateFundingBalanceData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkFundingBalanceData(1, (FundingBalanceData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateFundingBalancePkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getFundingBalanceTableName(((String)source));
+	}
+
+	public String getFundingBalanceTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		FundingBalanceData data = (FundingBalanceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (FundingBalanceFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		FundingBalanceData data = (FundingBalanceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getAccountId());
+		stm.setInt(pos++, data.getProductId());
+		stm.setInt(pos++, data.getPositionType());
+		stm.setString(pos++, data.getCurrency());
+		stm.setInt(pos++, data.getBalanceType());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == FundingBalanceFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == FundingBalanceFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (FundingBalanceFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ACCT_NBR_C = ? AND PROD_I = ? AND POS_TYP_C = ? AND PROD_CURR_C = ? AND POS_BAL_TYP_C = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ACCT_NBR_C,t0.PROD_I,t0.POS_TYP_C,t0.PROD_CURR_C,t0.POS_BAL_TYP_C,t0.POS_BAL_M,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*10);
+		result.append(databaseAlias).append(".").append("ACCT_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_I");
+		result.append(",").append(databaseAlias).append(".").append("POS_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_CURR_C");
+		result.append(",").append(databaseAlias).append(".").append("POS_BAL_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("POS_BAL_M");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public FundingBalanceData inflateFundingBalanceData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		FundingBalanceData data = inflateFundingBalancePkData(rs, dt, sourceAttribute);
+		inflateNonPkFundingBalanceData(6, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public FundingBalanceData inflateFundingBalancePkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		FundingBalanceData _data = new FundingBalanceData.FundingBalanceDataOnHeap();
+		int _pos = 1;
+		_data.setAcmapCode(sourceAttribute);
+		_data.setAccountId(trimString(_rs.getString(_pos++)));
+		_data.setProductId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "productId");
+		_data.setPositionType(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "positionType");
+		_data.setCurrency(trimString(_rs.getString(_pos++)));
+		_data.setBalanceType(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "balanceType");
+		return _data;
+	}
+
+	public void inflateNonPkFundingBalanceData(int _pos, FundingBalanceData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			FundingBalanceData _data = _datax;
+			_data.setBalanceValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBalanceValueNull();
+			}
+
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				FundingBalanceFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				FundingBalanceFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public String getFullyQualifiedTableName(String sourceAttribute)
+	{
+		String schema = this.getSchemaGenericSource(sourceAttribute);
+		String tableName = getFundingBalanceTableName(sourceAttribute);
+		return this.getDatabaseType(sourceAttribute).getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "FUNDING_BALANCE";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		FundingBalanceData data = (FundingBalanceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isAccountIdNull())
+		{
+			throwNullAttribute("accountId");
+		}
+
+		stm.setString(pos++, data.getAccountId());
+		stm.setInt(pos++, data.getProductId());
+		stm.setInt(pos++, data.getPositionType());
+		if(data.isCurrencyNull())
+		{
+			throwNullAttribute("currency");
+		}
+
+		stm.setString(pos++, data.getCurrency());
+		stm.setInt(pos++, data.getBalanceType());
+		if (data.isBalanceValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getBalanceValue());
+		}
+
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateToNull())
+		{
+			throwNullAttribute("businessDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == FundingBalanceFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == FundingBalanceFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "ACCT_NBR_C,PROD_I,POS_TYP_C,PROD_CURR_C,POS_BAL_TYP_C,POS_BAL_M,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		FundingBalance newObject = new FundingBalance(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromFundingBalanceData((FundingBalanceData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(FundingBalanceFinder.getMithraObjectPortal(),
+			FundingBalanceFinder.processingDate())
+		,FundingBalanceFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_Z = ?";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		FundingBalanceData data = (FundingBalanceData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getAccountId());
+		stm.setInt(pos++, data.getProductId());
+		stm.setInt(pos++, data.getPositionType());
+		stm.setString(pos++, data.getCurrency());
+		stm.setInt(pos++, data.getBalanceType());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, FundingBalanceFinder.businessDate(),
+			FundingBalanceFinder.processingDate());
+	}
+}
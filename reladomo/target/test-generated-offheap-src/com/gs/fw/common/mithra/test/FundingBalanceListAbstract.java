@@ -0,0 +1,195 @@
+package com.gs.fw.common.mithra.test;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class FundingBalanceListAbstract extends DelegatingList<FundingBalance> implements MithraDatedTransactionalList<FundingBalance>
+{
+	public FundingBalanceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public FundingBalanceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public FundingBalanceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public FundingBalanceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public FundingBalance[] elements()
+	{
+		FundingBalance[] result = new FundingBalance[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public FundingBalanceList intersection(FundingBalanceList another)
+	{
+		return (FundingBalanceList)super.intersection(another);
+	}
+
+	public FundingBalance getFundingBalanceAt(int index)
+	{
+		return (FundingBalance)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return FundingBalanceFinder.getMithraObjectPortal();
+	}
+
+	public FundingBalanceList getNonPersistentCopy()
+	{
+		FundingBalanceList result = new FundingBalanceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public FundingBalanceList asAdhoc()
+	{
+		return (FundingBalanceList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<FundingBalance> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public FundingBalanceList merge(MithraTransactionalList<FundingBalance> incoming, TopLevelMergeOptions<FundingBalance> mergeOptions)
+	{
+		return (FundingBalanceList) super.merge(incoming, mergeOptions);
+	}
+
+	public FundingBalanceList getDetachedCopy()
+	{
+		FundingBalanceList result = new FundingBalanceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(FundingBalanceFinder.accountId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(FundingBalanceFinder.productId(), newValue);
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(FundingBalanceFinder.positionType(), newValue);
+	}
+
+	public void setCurrency(String newValue)
+	{
+		zSetString(FundingBalanceFinder.currency(), newValue);
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(FundingBalanceFinder.balanceType(), newValue);
+	}
+
+	public void setBalanceValue(double newValue)
+	{
+		zSetDouble(FundingBalanceFinder.balanceValue(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(FundingBalanceFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(FundingBalanceFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(FundingBalanceFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(FundingBalanceFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(FundingBalanceFinder.acmapCode(), newValue);
+	}
+
+	public void setBalanceValueNull()
+	{
+		zSetAttributeNull(FundingBalanceFinder.balanceValue());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
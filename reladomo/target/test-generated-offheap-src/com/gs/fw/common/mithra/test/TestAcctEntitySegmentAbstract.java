@@ -0,0 +1,693 @@
+package com.gs.fw.common.mithra.test;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnl;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlAbstract;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlData;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlFinder;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestAcctEntitySegmentAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		TestAcctEntitySegmentFinder.businessDate()
+	,
+		TestAcctEntitySegmentFinder.processingDate()
+	, TestAcctEntitySegmentFinder.zGetDoubleAttributes(),TestAcctEntitySegmentFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestAcctEntitySegment.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestAcctEntitySegmentAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestAcctEntitySegmentFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestAcctEntitySegmentFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestAcctEntitySegmentAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public TestAcctEntitySegmentData zSynchronizedGetData()
+	{
+		return (TestAcctEntitySegmentData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestAcctEntitySegmentFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TestAcctEntitySegmentFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestAcctEntitySegment zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestAcctEntitySegment original = (TestAcctEntitySegment) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TestAcctEntitySegment copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestAcctEntitySegment) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestAcctEntitySegment copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestAcctEntitySegment) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			TestAcctEntitySegmentFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TestAcctEntitySegment getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestAcctEntitySegmentAbstract result = (TestAcctEntitySegmentAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestAcctEntitySegment ) result;
+	}
+
+	public TestAcctEntitySegment zFindOriginal()
+	{
+		TestAcctEntitySegmentData data = (TestAcctEntitySegmentData) this.currentData;
+		Operation op;
+		op = TestAcctEntitySegmentFinder.accountId().eq(data.getAccountId());
+		op = op.and(TestAcctEntitySegmentFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TestAcctEntitySegmentFinder.processingDate().eq(this.getProcessingDate()));
+		return TestAcctEntitySegmentFinder.findOne(op);
+	}
+
+	public TestAcctEntitySegment getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestAcctEntitySegmentAbstract result = (TestAcctEntitySegmentAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestAcctEntitySegment ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestAcctEntitySegment copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestAcctEntitySegment) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestAcctEntitySegment copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestAcctEntitySegment) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestAcctEntitySegmentData data = (TestAcctEntitySegmentData) this.currentData;
+			Operation op = TestAcctEntitySegmentFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestAcctEntitySegmentFinder.processingDate().eq(this.processingDate));
+			op = op.and(TestAcctEntitySegmentFinder.accountId().eq(data.getAccountId()));
+			return TestAcctEntitySegmentFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestAcctEntitySegmentData data = (TestAcctEntitySegmentData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestAcctEntitySegmentFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestAcctEntitySegmentData data = (TestAcctEntitySegmentData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return this.zSynchronizedGetData().isAccountIdNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isEntityNull()
+	{
+		return this.zSynchronizedGetData().isEntityNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isSegmentIdNull()
+	{
+		return this.zSynchronizedGetData().isSegmentIdNull();
+	}
+
+	public String getAccountId()
+	{
+		return this.zSynchronizedGetData().getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'accountId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(TestAcctEntitySegmentFinder.accountId(), newValue, true );
+	}
+
+	public void setAccountIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'accountId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(TestAcctEntitySegmentFinder.accountId(), newValue, true , exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAcctEntitySegmentFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAcctEntitySegmentFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getEntity()
+	{
+		return this.zSynchronizedGetData().getEntity();
+	}
+
+	public void setEntity(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestAcctEntitySegmentFinder.entity(), newValue, false );
+	}
+
+	public void setEntityUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestAcctEntitySegmentFinder.entity(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAcctEntitySegmentFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAcctEntitySegmentFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getSegmentId()
+	{
+		TestAcctEntitySegmentData data = this.zSynchronizedGetData();
+		if (data.isSegmentIdNull()) MithraNullPrimitiveException.throwNew("segmentId", data);
+		return data.getSegmentId();
+	}
+
+	public void setSegmentId(int newValue)
+	{
+		zSetInteger(TestAcctEntitySegmentFinder.segmentId(), newValue, false ,true);
+	}
+
+	public void setSegmentIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestAcctEntitySegmentFinder.segmentId(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestAcctEntitySegmentFinder.segmentId(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestAcctEntitySegmentData data2 = (TestAcctEntitySegmentData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestAcctEntitySegmentFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setSegmentIdNull()
+	{
+		zNullify(TestAcctEntitySegmentFinder.segmentId(), false);
+	}
+
+	public void setSegmentIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestAcctEntitySegmentFinder.segmentId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestAcctEntitySegmentData _newData = (TestAcctEntitySegmentData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestAcctEntitySegmentData _newData = (TestAcctEntitySegmentData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestAcctEntitySegmentData _newData = (TestAcctEntitySegmentData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestEodAcctIfPnl.accountId = this.accountId and TestEodAcctIfPnl.businessDate = this.businessDate</pre>
+	* @see TestEodAcctIfPnl#getAcctEntitySegmentImpl() reverse relationship TestEodAcctIfPnl.getAcctEntitySegmentImpl()
+	* @return acct entity segment2eod acct if pnl
+	*/
+	public TestEodAcctIfPnlList getAcctEntitySegment2eodAcctIfPnl()
+	{
+		TestEodAcctIfPnlList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestAcctEntitySegmentData _data = (TestAcctEntitySegmentData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestAcctEntitySegmentFinder.acctEntitySegment2eodAcctIfPnl().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestAcctEntitySegmentFinder.acctEntitySegment2eodAcctIfPnl().zGetRelationshipMultiExtractor(), this);
+					_result = new TestEodAcctIfPnlList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestEodAcctIfPnlList) _data.getAcctEntitySegment2eodAcctIfPnl();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestAcctEntitySegmentFinder.acctEntitySegment2eodAcctIfPnl().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new TestEodAcctIfPnlList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setAcctEntitySegment2eodAcctIfPnl(TestEodAcctIfPnlList acctEntitySegment2eodAcctIfPnl)
+	{
+		TestEodAcctIfPnlList _acctEntitySegment2eodAcctIfPnl = (TestEodAcctIfPnlList) acctEntitySegment2eodAcctIfPnl;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestAcctEntitySegmentData _data = (TestAcctEntitySegmentData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAcctEntitySegment2eodAcctIfPnl(_acctEntitySegment2eodAcctIfPnl);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return TestAcctEntitySegmentFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestAcctEntitySegmentData.TestAcctEntitySegmentDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestAcctEntitySegmentData data = (TestAcctEntitySegmentData) TestAcctEntitySegmentFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestAcctEntitySegment has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestAcctEntitySegmentData( TestAcctEntitySegmentData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestAcctEntitySegmentData( TestAcctEntitySegmentData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestAcctEntitySegmentFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestAcctEntitySegmentFinder.getMithraObjectPortal();
+	}
+
+	public TestAcctEntitySegment getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestAcctEntitySegmentAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestAcctEntitySegmentAbstract from = (TestAcctEntitySegmentAbstract) f;
+		TestAcctEntitySegmentData newData = from.zSynchronizedGetData();
+		this.setEntity(newData.getEntity());
+		if (from.isSegmentIdNull())
+		{
+			this.setSegmentIdNull();
+		}
+		else
+		{
+			this.setSegmentId(newData.getSegmentId());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestAcctEntitySegmentData _newData = (TestAcctEntitySegmentData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestAcctEntitySegmentData _newData = (TestAcctEntitySegmentData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestAcctEntitySegmentAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestAcctEntitySegmentAbstract from = (TestAcctEntitySegmentAbstract)f;
+		TestAcctEntitySegmentData newData = from.zSynchronizedGetData();
+		this.setEntityUntil(newData.getEntity(), exclusiveUntil);
+		if (from.isSegmentIdNull())
+		{
+			this.setSegmentIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setSegmentIdUntil(newData.getSegmentId(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TestAcctEntitySegmentData newData = (TestAcctEntitySegmentData) d;
+		TestAcctEntitySegmentData data = (TestAcctEntitySegmentData) nd;
+		if (TestAcctEntitySegmentFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestAcctEntitySegmentFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestAcctEntitySegmentFinder.entity(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestAcctEntitySegmentFinder.segmentId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestAcctEntitySegmentFinder.accountId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestAcctEntitySegmentFinder.entity(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestAcctEntitySegmentFinder.segmentId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestAcctEntitySegmentData data = ((TestAcctEntitySegmentData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestAcctEntitySegmentData data = ((TestAcctEntitySegmentData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestAcctEntitySegmentData data = ((TestAcctEntitySegmentData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestAcctEntitySegmentFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestAcctEntitySegmentFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestAcctEntitySegmentData localData = (TestAcctEntitySegmentData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
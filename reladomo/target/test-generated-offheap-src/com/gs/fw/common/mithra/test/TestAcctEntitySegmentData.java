@@ -0,0 +1,1102 @@
+package com.gs.fw.common.mithra.test;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnl;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlAbstract;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlData;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlFinder;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestAcctEntitySegmentData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 52;
+	boolean isAccountIdNull();
+	String getAccountId();
+	void setAccountId(String value);
+	void setAccountIdNull();
+	int zGetAccountIdAsInt();
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isEntityNull();
+	String getEntity();
+	void setEntity(String value);
+	void setEntityNull();
+	int zGetEntityAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isSegmentIdNull();
+	int getSegmentId();
+	void setSegmentId(int value);
+	void setSegmentIdNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getAcctEntitySegment2eodAcctIfPnl();
+	void setAcctEntitySegment2eodAcctIfPnl(Object related);
+	public class TestAcctEntitySegmentDataOnHeap implements TestAcctEntitySegmentData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private String accountId;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private String entity;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int segmentId;
+		public boolean isAccountIdNull()
+		{
+			return this.getAccountId() == null;
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isEntityNull()
+		{
+			return this.getEntity() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isSegmentIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.accountId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, TestAcctEntitySegmentFinder.businessDate().getInfinityDate());
+			out.writeObject(this.entity);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TestAcctEntitySegmentFinder.processingDate().getInfinityDate());
+			out.writeInt(this.segmentId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public String getAccountId()
+		{
+			return this.accountId;
+		}
+
+		public int zGetAccountIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountId);
+		}
+
+		public void setAccountId(String value)
+		{
+			this.accountId = StringPool.getInstance().getOrAddToCache(value, TestAcctEntitySegmentFinder.isFullCache());
+		}
+
+		public void setAccountIdNull()
+		{
+			this.setAccountId(null);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getEntity()
+		{
+			return this.entity;
+		}
+
+		public int zGetEntityAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(entity);
+		}
+
+		public void setEntity(String value)
+		{
+			this.entity = StringPool.getInstance().getOrAddToCache(value, TestAcctEntitySegmentFinder.isFullCache());
+		}
+
+		public void setEntityNull()
+		{
+			this.setEntity(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getSegmentId()
+		{
+			return this.segmentId;
+		}
+
+		public void setSegmentId(int value)
+		{
+			this.segmentId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setSegmentIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestAcctEntitySegmentDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.accountId = this.accountId;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.entity = this.entity;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.segmentId = this.segmentId;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestAcctEntitySegmentFinder.isFullCache());
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestAcctEntitySegmentFinder.businessDate().getInfinityDate()), TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+			this.entity = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestAcctEntitySegmentFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestAcctEntitySegmentFinder.processingDate().getInfinityDate()), TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+			this.segmentId = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestAcctEntitySegmentData otherData = (TestAcctEntitySegmentData) other;
+			if (!isAccountIdNull() ? !getAccountId().equals(otherData.getAccountId()) : !otherData.isAccountIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.accountId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, TestAcctEntitySegmentFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TestAcctEntitySegmentFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestAcctEntitySegmentFinder.isFullCache());
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestAcctEntitySegmentFinder.businessDate().getInfinityDate()), TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestAcctEntitySegmentFinder.processingDate().getInfinityDate()), TestAcctEntitySegmentFinder.isFullCache(), TestAcctEntitySegmentFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getAcctEntitySegment2eodAcctIfPnl()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setAcctEntitySegment2eodAcctIfPnl(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestAcctEntitySegmentDataOffHeap data = new TestAcctEntitySegmentDataOffHeap();
+			data.setAccountId(this.getAccountId());
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setEntity(this.getEntity());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setSegmentId(this.getSegmentId());
+			if (this.isSegmentIdNull()) data.setSegmentIdNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestAcctEntitySegmentData testAcctEntitySegmentData = (TestAcctEntitySegmentData) newData;
+			this.setBusinessDateFrom(testAcctEntitySegmentData.getBusinessDateFrom());
+			this.setBusinessDateTo(testAcctEntitySegmentData.getBusinessDateTo());
+			this.setEntity(testAcctEntitySegmentData.getEntity());
+			this.setProcessingDateFrom(testAcctEntitySegmentData.getProcessingDateFrom());
+			this.setProcessingDateTo(testAcctEntitySegmentData.getProcessingDateTo());
+			this.setSegmentId(testAcctEntitySegmentData.getSegmentId());
+			if (testAcctEntitySegmentData.isSegmentIdNull()) this.setSegmentIdNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestAcctEntitySegmentData other = (TestAcctEntitySegmentData) newData;
+			if (!isEntityNull() ? !getEntity().equals(other.getEntity()) : !other.isEntityNull())
+			{
+				return true;
+			}
+
+			if ( isSegmentIdNull() != other.isSegmentIdNull() || getSegmentId() != other.getSegmentId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestAcctEntitySegmentDataOnHeap copy = new TestAcctEntitySegmentDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestAcctEntitySegmentDataOnHeap copy = new TestAcctEntitySegmentDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestAcctEntitySegmentData otherData = (TestAcctEntitySegmentData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestAcctEntitySegmentData otherData = (TestAcctEntitySegmentData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.TestAcctEntitySegmentData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestAcctEntitySegmentFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestAcctEntitySegmentFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.TestAcctEntitySegmentData";
+		}
+	}
+
+	public class TestAcctEntitySegmentDataOffHeap extends MithraOffHeapDataObject implements TestAcctEntitySegmentData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestAcctEntitySegmentDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 32);
+			this.zSetTimestamp(_storage, value, 40);
+		}
+
+		public TestAcctEntitySegmentDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccountIdNull()
+		{
+			return zIsStringNull(_storage, 8);
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isEntityNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public boolean isSegmentIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAccountId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestAcctEntitySegmentFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getEntity());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestAcctEntitySegmentFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getSegmentId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isSegmentIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public String getAccountId()
+		{
+			return zGetString(_storage, 8);
+		}
+
+		public int zGetAccountIdAsInt()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setAccountId(String value)
+		{
+			zSetString(_storage, value, 8);
+		}
+
+		public void setAccountIdNull()
+		{
+			this.setAccountId(null);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getEntity()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetEntityAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setEntity(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setEntityNull()
+		{
+			this.setEntity(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getSegmentId()
+		{
+			return zGetInteger(_storage, 48);
+		}
+
+		public void setSegmentId(int value)
+		{
+			zSetInteger(_storage, value, 48, 4, 0);
+		}
+
+		public void setSegmentIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestAcctEntitySegmentDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountId = this.getAccountId();
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.entity = this.getEntity();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.segmentId = this.getSegmentId();
+			if (isSegmentIdNull())
+			{
+				copy.setSegmentIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetInteger(_storage, in.readInt(), 48, 4, 0, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestAcctEntitySegmentDataOffHeap)
+			{
+				final TestAcctEntitySegmentDataOffHeap otherData = (TestAcctEntitySegmentDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestAcctEntitySegmentData otherData = (TestAcctEntitySegmentData) other;
+			if (!isAccountIdNull() ? !getAccountId().equals(otherData.getAccountId()) : !otherData.isAccountIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.getAccountId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestAcctEntitySegmentFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestAcctEntitySegmentFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getAcctEntitySegment2eodAcctIfPnl()
+		{
+			return null;
+		}
+
+		public void setAcctEntitySegment2eodAcctIfPnl(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestAcctEntitySegmentData testAcctEntitySegmentData = (TestAcctEntitySegmentData) newData;
+			this.setBusinessDateFrom(testAcctEntitySegmentData.getBusinessDateFrom());
+			this.setBusinessDateTo(testAcctEntitySegmentData.getBusinessDateTo());
+			this.setEntity(testAcctEntitySegmentData.getEntity());
+			this.setProcessingDateFrom(testAcctEntitySegmentData.getProcessingDateFrom());
+			this.setProcessingDateTo(testAcctEntitySegmentData.getProcessingDateTo());
+			this.setSegmentId(testAcctEntitySegmentData.getSegmentId());
+			if (testAcctEntitySegmentData.isSegmentIdNull()) this.setSegmentIdNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestAcctEntitySegmentData other = (TestAcctEntitySegmentData) newData;
+			if (!isEntityNull() ? !getEntity().equals(other.getEntity()) : !other.isEntityNull())
+			{
+				return true;
+			}
+
+			if ( isSegmentIdNull() != other.isSegmentIdNull() || getSegmentId() != other.getSegmentId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestAcctEntitySegmentDataOnHeap copy = new TestAcctEntitySegmentDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestAcctEntitySegmentDataOnHeap copy = new TestAcctEntitySegmentDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestAcctEntitySegmentData otherData = (TestAcctEntitySegmentData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestAcctEntitySegmentData otherData = (TestAcctEntitySegmentData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.TestAcctEntitySegmentData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestAcctEntitySegmentFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestAcctEntitySegmentFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.TestAcctEntitySegmentData";
+		}
+	}
+}
@@ -0,0 +1,928 @@
+package com.gs.fw.common.mithra.test;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnl;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlAbstract;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlData;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlFinder;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestAcctEntitySegmentFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/TestAcctEntitySegment";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.TestAcctEntitySegment";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.TestAcctEntitySegment");
+	private static final TestAcctEntitySegmentSingleFinder<TestAcctEntitySegment, Object, TestAcctEntitySegment> finder = new TestAcctEntitySegmentSingleFinder<TestAcctEntitySegment, Object, TestAcctEntitySegment>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestAcctEntitySegmentFinder.TestAcctEntitySegmentRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("entity");
+		finderMethodMap.addNormalAttributeName("segmentId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("acctEntitySegment2eodAcctIfPnl");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = TestAcctEntitySegmentFinder.accountId().constructEqualityMapper(TestEodAcctIfPnlFinder.accountId());
+			result[1] = TestEodAcctIfPnlFinder.accountId().constructEqualityMapper(TestAcctEntitySegmentFinder.accountId());
+			result[2] = TestAcctEntitySegmentFinder.businessDate().constructEqualityMapper(TestEodAcctIfPnlFinder.businessDate());
+			result[3] = TestEodAcctIfPnlFinder.businessDate().constructEqualityMapper(TestAcctEntitySegmentFinder.businessDate());
+			result[4] = TestAcctEntitySegmentFinder.processingDate().constructEqualityMapper(TestEodAcctIfPnlFinder.processingDate());
+			result[5] = TestEodAcctIfPnlFinder.processingDate().constructEqualityMapper(TestAcctEntitySegmentFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestAcctEntitySegment findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestAcctEntitySegment findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestAcctEntitySegmentList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestAcctEntitySegmentList) finder.findMany(operation);
+	}
+
+	public static TestAcctEntitySegmentList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestAcctEntitySegmentList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestAcctEntitySegment findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestAcctEntitySegment) FinderUtils.findOne(found);
+	}
+
+	public static TestAcctEntitySegment findByPrimaryKey(String accountId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(accountId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestAcctEntitySegmentData _castedTargetData = (TestAcctEntitySegmentData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountId()))
+			{
+				return TestAcctEntitySegmentFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TestAcctEntitySegmentFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static TestAcctEntitySegment zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestAcctEntitySegment) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestAcctEntitySegmentRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestAcctEntitySegment, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> accountId;
+		private StringAttribute<ParentOwnerType> entity;
+		private IntegerAttribute<ParentOwnerType> segmentId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private TestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlFinderSubclass<ParentOwnerType> acctEntitySegment2eodAcctIfPnl;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestAcctEntitySegmentRelatedFinder()
+		{
+			super();
+		}
+
+		public TestAcctEntitySegmentRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.TestAcctEntitySegmentFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestAcctEntitySegmentFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestAcctEntitySegmentFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestAcctEntitySegmentFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.accountId();
+			attributes[1] = this.entity();
+			attributes[2] = this.segmentId();
+			attributes[3] = this.processingDateFrom();
+			attributes[4] = this.processingDateTo();
+			attributes[5] = this.businessDateFrom();
+			attributes[6] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.acctEntitySegment2eodAcctIfPnl());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestAcctEntitySegment findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestAcctEntitySegmentFinder.findOne(operation, false);
+		}
+
+		public TestAcctEntitySegment findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestAcctEntitySegmentFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestAcctEntitySegment> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestAcctEntitySegmentList((Operation) operation);
+		}
+
+		public MithraList<? extends TestAcctEntitySegment> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestAcctEntitySegmentList result = (TestAcctEntitySegmentList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestAcctEntitySegment> constructEmptyList()
+		{
+			return new TestAcctEntitySegmentList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -340252587;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_NBR_C","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,15,true, false) :
+					new MappedStringAttribute(TestAcctEntitySegmentFinder.accountId(), this.mapper, this.zGetValueSelector());
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> entity()
+		{
+			StringAttribute<ParentOwnerType> result = this.entity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ENTITY","","entity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(TestAcctEntitySegmentFinder.entity(), this.mapper, this.zGetValueSelector());
+				this.entity = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> segmentId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.segmentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SEGMENT_ID","","segmentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,48,4,0,false, false) :
+					new MappedIntegerAttribute(TestAcctEntitySegmentFinder.segmentId(), this.mapper, this.zGetValueSelector());
+				this.segmentId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestAcctEntitySegmentFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestAcctEntitySegmentFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestAcctEntitySegmentFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestAcctEntitySegmentFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestAcctEntitySegmentFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestAcctEntitySegmentFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestAcctEntitySegmentFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestAcctEntitySegmentFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestAcctEntitySegmentFinder.businessDateInfinity,false,true,TestAcctEntitySegmentFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestAcctEntitySegmentFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TestAcctEntitySegmentFinder.processingDateInfinity,false,false,TestAcctEntitySegmentFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestAcctEntitySegmentFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public TestEodAcctIfPnlFinder.TestEodAcctIfPnlCollectionFinderForRelatedClasses<ParentOwnerType, TestEodAcctIfPnlList, TestAcctEntitySegment> acctEntitySegment2eodAcctIfPnl()
+		{
+			TestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlFinderSubclass<ParentOwnerType> result = this.acctEntitySegment2eodAcctIfPnl;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestAcctEntitySegmentFinder.zGetTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlReverseMapper());
+				newMapper.setToMany(true);
+				result = new TestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.acctEntitySegment2eodAcctIfPnl = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestAcctEntitySegmentFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestAcctEntitySegmentFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestAcctEntitySegmentCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestAcctEntitySegmentRelatedFinder<ParentOwnerType, ReturnType, TestAcctEntitySegmentList, OwnerType>
+	{
+		public TestAcctEntitySegmentCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestAcctEntitySegmentCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestAcctEntitySegmentCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestAcctEntitySegmentCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestAcctEntitySegmentSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestAcctEntitySegmentRelatedFinder<ParentOwnerType, ReturnType, TestAcctEntitySegmentList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestAcctEntitySegmentSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestAcctEntitySegmentSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestAcctEntitySegment other)
+		{
+			return this.accountId().eq(other.getAccountId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestAcctEntitySegment findByPrimaryKey(String accountId, Timestamp businessDate, Timestamp processingDate)
+		{
+			TestAcctEntitySegment _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestAcctEntitySegment) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestAcctEntitySegmentSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestAcctEntitySegmentSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestAcctEntitySegmentSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper acctEntitySegment2eodAcctIfPnlReverseMapper = null;
+	public static Mapper zGetTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlReverseMapper()
+	{
+		if (acctEntitySegment2eodAcctIfPnlReverseMapper == null)
+		{
+			acctEntitySegment2eodAcctIfPnlReverseMapper = zConstructTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlReverseMapper();
+		}
+
+		return acctEntitySegment2eodAcctIfPnlReverseMapper;
+	}
+
+	private static Mapper acctEntitySegment2eodAcctIfPnlMapper = null;
+	public static Mapper zGetTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlMapper()
+	{
+		if (acctEntitySegment2eodAcctIfPnlMapper == null)
+		{
+			acctEntitySegment2eodAcctIfPnlMapper = zConstructTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlMapper();
+		}
+
+		return acctEntitySegment2eodAcctIfPnlMapper;
+	}
+
+	private static Mapper acctEntitySegment2eodAcctIfPnlPureReverseMapper = null;
+	public static Mapper zGetTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlPureReverseMapper()
+	{
+		if (acctEntitySegment2eodAcctIfPnlPureReverseMapper == null)
+		{
+			acctEntitySegment2eodAcctIfPnlPureReverseMapper = zConstructTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlPureReverseMapper();
+		}
+
+		return acctEntitySegment2eodAcctIfPnlPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlPureReverseMapper()
+	{
+		InternalList acctEntitySegment2eodAcctIfPnlMapperMapperList = new InternalList(3);
+		acctEntitySegment2eodAcctIfPnlMapperMapperList.add(TestAcctEntitySegmentFinder.zGetConstantJoin(0));
+		acctEntitySegment2eodAcctIfPnlMapperMapperList.add(TestAcctEntitySegmentFinder.zGetConstantJoin(2));
+		acctEntitySegment2eodAcctIfPnlMapperMapperList.add(TestAcctEntitySegmentFinder.zGetConstantJoin(4));
+		Mapper acctEntitySegment2eodAcctIfPnlMapper = new MultiEqualityMapper(acctEntitySegment2eodAcctIfPnlMapperMapperList);
+		acctEntitySegment2eodAcctIfPnlMapper.setName("acctEntitySegment2eodAcctIfPnl");
+		return acctEntitySegment2eodAcctIfPnlMapper;
+	}
+
+	private static Mapper zConstructTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlReverseMapper()
+	{
+		InternalList acctEntitySegment2eodAcctIfPnlMapperMapperList = new InternalList(3);
+		acctEntitySegment2eodAcctIfPnlMapperMapperList.add(TestAcctEntitySegmentFinder.zGetConstantJoin(0));
+		acctEntitySegment2eodAcctIfPnlMapperMapperList.add(TestAcctEntitySegmentFinder.zGetConstantJoin(2));
+		acctEntitySegment2eodAcctIfPnlMapperMapperList.add(TestAcctEntitySegmentFinder.zGetConstantJoin(4));
+		Mapper acctEntitySegment2eodAcctIfPnlMapper = new MultiEqualityMapper(acctEntitySegment2eodAcctIfPnlMapperMapperList);
+		acctEntitySegment2eodAcctIfPnlMapper.setName("acctEntitySegment2eodAcctIfPnl");
+		return acctEntitySegment2eodAcctIfPnlMapper;
+	}
+
+	private static Mapper zConstructTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlMapper()
+	{
+		InternalList acctEntitySegment2eodAcctIfPnlMapperMapperList = new InternalList(3);
+		acctEntitySegment2eodAcctIfPnlMapperMapperList.add(TestAcctEntitySegmentFinder.zGetConstantJoin(1));
+		acctEntitySegment2eodAcctIfPnlMapperMapperList.add(TestAcctEntitySegmentFinder.zGetConstantJoin(3));
+		acctEntitySegment2eodAcctIfPnlMapperMapperList.add(TestAcctEntitySegmentFinder.zGetConstantJoin(5));
+		Mapper acctEntitySegment2eodAcctIfPnlMapper = new MultiEqualityMapper(acctEntitySegment2eodAcctIfPnlMapperMapperList);
+		acctEntitySegment2eodAcctIfPnlMapper.setName("acctEntitySegmentImpl");
+		return acctEntitySegment2eodAcctIfPnlMapper;
+	}
+
+	/** maps to ACCT_ENTITY_SEGMENT.ACCT_NBR_C **/
+	public static StringAttribute<TestAcctEntitySegment> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to ACCT_ENTITY_SEGMENT.ENTITY **/
+	public static StringAttribute<TestAcctEntitySegment> entity()
+	{
+		return finder.entity();
+	}
+
+	/** maps to ACCT_ENTITY_SEGMENT.SEGMENT_ID **/
+	public static IntegerAttribute<TestAcctEntitySegment> segmentId()
+	{
+		return finder.segmentId();
+	}
+
+	/** maps to ACCT_ENTITY_SEGMENT.IN_Z **/
+	public static TimestampAttribute<TestAcctEntitySegment> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to ACCT_ENTITY_SEGMENT.OUT_Z **/
+	public static TimestampAttribute<TestAcctEntitySegment> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to ACCT_ENTITY_SEGMENT.FROM_Z **/
+	public static TimestampAttribute<TestAcctEntitySegment> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to ACCT_ENTITY_SEGMENT.THRU_Z **/
+	public static TimestampAttribute<TestAcctEntitySegment> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<TestAcctEntitySegment> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TestAcctEntitySegment> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static TestEodAcctIfPnlFinder.TestEodAcctIfPnlCollectionFinderForRelatedClasses<TestAcctEntitySegment, TestEodAcctIfPnlList, TestAcctEntitySegment> acctEntitySegment2eodAcctIfPnl()
+	{
+		return finder.acctEntitySegment2eodAcctIfPnl();
+	}
+
+	public static class TestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlFinderSubclass<ParentOwnerType> extends TestEodAcctIfPnlFinder.TestEodAcctIfPnlCollectionFinderForRelatedClasses<ParentOwnerType, TestEodAcctIfPnlList, TestAcctEntitySegment>
+	{
+		public TestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "acctEntitySegment2eodAcctIfPnl";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestEodAcctIfPnlFinder.accountId(),
+				TestEodAcctIfPnlFinder.businessDate(),
+				TestEodAcctIfPnlFinder.processingDate()).withExtractors(
+				TestAcctEntitySegmentFinder.accountId(),
+				TestAcctEntitySegmentFinder.businessDate(),
+				TestAcctEntitySegmentFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestEodAcctIfPnlList plainValueOf(TestAcctEntitySegment _obj)
+		{
+			return _obj.getAcctEntitySegment2eodAcctIfPnl();
+		}
+
+		protected TestEodAcctIfPnlList plainListValueOf(Object _obj)
+		{
+			return ((TestAcctEntitySegmentList)_obj).getAcctEntitySegment2eodAcctIfPnl();
+		}
+	}
+
+	public static Operation eq(TestAcctEntitySegment other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountId());
+	}
+
+	public static TestAcctEntitySegmentSingleFinder<TestAcctEntitySegment, Object, TestAcctEntitySegment> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, accountId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.TestAcctEntitySegment");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
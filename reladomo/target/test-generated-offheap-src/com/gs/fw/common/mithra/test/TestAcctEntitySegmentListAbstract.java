@@ -0,0 +1,191 @@
+package com.gs.fw.common.mithra.test;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnl;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlAbstract;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlData;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlFinder;
+import com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestAcctEntitySegmentListAbstract extends DelegatingList<TestAcctEntitySegment> implements MithraDatedTransactionalList<TestAcctEntitySegment>
+{
+	public TestAcctEntitySegmentListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestAcctEntitySegmentListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestAcctEntitySegmentListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestAcctEntitySegmentListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestAcctEntitySegment[] elements()
+	{
+		TestAcctEntitySegment[] result = new TestAcctEntitySegment[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestAcctEntitySegmentList intersection(TestAcctEntitySegmentList another)
+	{
+		return (TestAcctEntitySegmentList)super.intersection(another);
+	}
+
+	public TestAcctEntitySegment getTestAcctEntitySegmentAt(int index)
+	{
+		return (TestAcctEntitySegment)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestEodAcctIfPnl.accountId = this.accountId and TestEodAcctIfPnl.businessDate = this.businessDate</pre>
+	* @see TestEodAcctIfPnl#getAcctEntitySegmentImpl() reverse relationship TestEodAcctIfPnl.getAcctEntitySegmentImpl()
+	* @return acct entity segment2eod acct if pnl
+	*/
+	public TestEodAcctIfPnlList getAcctEntitySegment2eodAcctIfPnl()
+	{
+		return (TestEodAcctIfPnlList) this.zGetDelegated().resolveRelationship(this, TestAcctEntitySegmentFinder.acctEntitySegment2eodAcctIfPnl());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestAcctEntitySegmentFinder.getMithraObjectPortal();
+	}
+
+	public TestAcctEntitySegmentList getNonPersistentCopy()
+	{
+		TestAcctEntitySegmentList result = new TestAcctEntitySegmentList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestAcctEntitySegmentList asAdhoc()
+	{
+		return (TestAcctEntitySegmentList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestAcctEntitySegment> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestAcctEntitySegmentList merge(MithraTransactionalList<TestAcctEntitySegment> incoming, TopLevelMergeOptions<TestAcctEntitySegment> mergeOptions)
+	{
+		return (TestAcctEntitySegmentList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestAcctEntitySegmentList getDetachedCopy()
+	{
+		TestAcctEntitySegmentList result = new TestAcctEntitySegmentList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(TestAcctEntitySegmentFinder.accountId(), newValue);
+	}
+
+	public void setEntity(String newValue)
+	{
+		zSetString(TestAcctEntitySegmentFinder.entity(), newValue);
+	}
+
+	public void setSegmentId(int newValue)
+	{
+		zSetInteger(TestAcctEntitySegmentFinder.segmentId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAcctEntitySegmentFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAcctEntitySegmentFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAcctEntitySegmentFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAcctEntitySegmentFinder.businessDateTo(), newValue);
+	}
+
+	public void setSegmentIdNull()
+	{
+		zSetAttributeNull(TestAcctEntitySegmentFinder.segmentId());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1989 @@
+package com.gs.fw.common.mithra.test.desk.aggregate;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AggregateTrialCurrencyExposureAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AggregateTrialCurrencyExposure.class.getName());
+	public AggregateTrialCurrencyExposureAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AggregateTrialCurrencyExposure getDetachedCopy() throws MithraBusinessException
+	{
+		return (AggregateTrialCurrencyExposure) super.getDetachedCopy();
+	}
+
+	public AggregateTrialCurrencyExposure getNonPersistentCopy() throws MithraBusinessException
+	{
+		AggregateTrialCurrencyExposure result = (AggregateTrialCurrencyExposure) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public AggregateTrialCurrencyExposure copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AggregateTrialCurrencyExposure) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AggregateTrialCurrencyExposure zFindOriginal()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.currentData;
+		Operation op;
+		op = AggregateTrialCurrencyExposureFinder.account9Digits().eq(data.getAccount9Digits());
+		op = op.and(AggregateTrialCurrencyExposureFinder.positionType().eq(data.getPositionType()));
+		op = op.and(AggregateTrialCurrencyExposureFinder.currency().eq(data.getCurrency()));
+		op = op.and(AggregateTrialCurrencyExposureFinder.productCurrency().eq(data.getProductCurrency()));
+		return AggregateTrialCurrencyExposureFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AggregateTrialCurrencyExposureData();
+	}
+
+	protected void zSetFromAggregateTrialCurrencyExposureData( AggregateTrialCurrencyExposureData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAggregateTrialCurrencyExposureData( AggregateTrialCurrencyExposureData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAccount9DigitsNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isAccount9DigitsNull();
+	}
+
+	public int getAccount9Digits()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getAccount9Digits();
+	}
+
+	public void setAccount9Digits(int newValue)
+	{
+		zSetInteger(AggregateTrialCurrencyExposureFinder.account9Digits(), newValue, true, false ,false);
+	}
+
+	public boolean isAllocationPnlNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isAllocationPnlNull();
+	}
+
+	public double getAllocationPnl()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getAllocationPnl();
+	}
+
+	public void setAllocationPnl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.allocationPnl(), newValue, false, false ,true);
+	}
+
+	public boolean isBaseControlNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isBaseControlNull();
+	}
+
+	public double getBaseControl()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getBaseControl();
+	}
+
+	public void setBaseControl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.baseControl(), newValue, false, false ,true);
+	}
+
+	public boolean isBidOfferAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isBidOfferAdjustmentNull();
+	}
+
+	public double getBidOfferAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getBidOfferAdjustment();
+	}
+
+	public void setBidOfferAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.bidOfferAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isCashDifferenceNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCashDifferenceNull();
+	}
+
+	public double getCashDifference()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCashDifference();
+	}
+
+	public void setCashDifference(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.cashDifference(), newValue, false, false ,true);
+	}
+
+	public boolean isContractNpvNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isContractNpvNull();
+	}
+
+	public double getContractNpv()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getContractNpv();
+	}
+
+	public void setContractNpv(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.contractNpv(), newValue, false, false ,true);
+	}
+
+	public boolean isCostLongNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCostLongNull();
+	}
+
+	public double getCostLong()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCostLong();
+	}
+
+	public void setCostLong(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.costLong(), newValue, false, false ,true);
+	}
+
+	public boolean isCostShortNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCostShortNull();
+	}
+
+	public double getCostShort()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCostShort();
+	}
+
+	public void setCostShort(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.costShort(), newValue, false, false ,true);
+	}
+
+	public boolean isCreditValuationAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCreditValuationAdjustmentNull();
+	}
+
+	public double getCreditValuationAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCreditValuationAdjustment();
+	}
+
+	public void setCreditValuationAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.creditValuationAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCurrencyNull();
+	}
+
+	public String getCurrency()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCurrency();
+	}
+
+	public void setCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(AggregateTrialCurrencyExposureFinder.currency(), newValue, true, false );
+	}
+
+	public boolean isCurrencyPosNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCurrencyPosNull();
+	}
+
+	public double getCurrencyPos()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCurrencyPos();
+	}
+
+	public void setCurrencyPos(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.currencyPos(), newValue, false, false ,true);
+	}
+
+	public boolean isCurrencyRealizedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCurrencyRealizedNull();
+	}
+
+	public double getCurrencyRealized()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCurrencyRealized();
+	}
+
+	public void setCurrencyRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.currencyRealized(), newValue, false, false ,true);
+	}
+
+	public boolean isCurrencyUnrealizedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCurrencyUnrealizedNull();
+	}
+
+	public double getCurrencyUnrealized()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCurrencyUnrealized();
+	}
+
+	public void setCurrencyUnrealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.currencyUnrealized(), newValue, false, false ,true);
+	}
+
+	public boolean isCustomerPayableAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCustomerPayableAdjustmentNull();
+	}
+
+	public double getCustomerPayableAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCustomerPayableAdjustment();
+	}
+
+	public void setCustomerPayableAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.customerPayableAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isCustomerReceivableAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isCustomerReceivableAdjustmentNull();
+	}
+
+	public double getCustomerReceivableAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getCustomerReceivableAdjustment();
+	}
+
+	public void setCustomerReceivableAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.customerReceivableAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isDataLevelNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isDataLevelNull();
+	}
+
+	public int getDataLevel()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		if (data.isDataLevelNull()) MithraNullPrimitiveException.throwNew("dataLevel", data);
+		return data.getDataLevel();
+	}
+
+	public void setDataLevel(int newValue)
+	{
+		zSetInteger(AggregateTrialCurrencyExposureFinder.dataLevel(), newValue, false, false ,true);
+	}
+
+	public boolean isDividendAccrualLongNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isDividendAccrualLongNull();
+	}
+
+	public double getDividendAccrualLong()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getDividendAccrualLong();
+	}
+
+	public void setDividendAccrualLong(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.dividendAccrualLong(), newValue, false, false ,true);
+	}
+
+	public boolean isDividendAccrualShortNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isDividendAccrualShortNull();
+	}
+
+	public double getDividendAccrualShort()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getDividendAccrualShort();
+	}
+
+	public void setDividendAccrualShort(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.dividendAccrualShort(), newValue, false, false ,true);
+	}
+
+	public boolean isDividendPaidReceivedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isDividendPaidReceivedNull();
+	}
+
+	public double getDividendPaidReceived()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getDividendPaidReceived();
+	}
+
+	public void setDividendPaidReceived(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.dividendPaidReceived(), newValue, false, false ,true);
+	}
+
+	public boolean isExchangeTaxNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isExchangeTaxNull();
+	}
+
+	public double getExchangeTax()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getExchangeTax();
+	}
+
+	public void setExchangeTax(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.exchangeTax(), newValue, false, false ,true);
+	}
+
+	public boolean isExpenseAccrualNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isExpenseAccrualNull();
+	}
+
+	public double getExpenseAccrual()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getExpenseAccrual();
+	}
+
+	public void setExpenseAccrual(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.expenseAccrual(), newValue, false, false ,true);
+	}
+
+	public boolean isExpensePayableNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isExpensePayableNull();
+	}
+
+	public double getExpensePayable()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getExpensePayable();
+	}
+
+	public void setExpensePayable(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.expensePayable(), newValue, false, false ,true);
+	}
+
+	public boolean isExpensePosNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isExpensePosNull();
+	}
+
+	public double getExpensePos()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getExpensePos();
+	}
+
+	public void setExpensePos(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.expensePos(), newValue, false, false ,true);
+	}
+
+	public boolean isFutureMarketValueLongNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isFutureMarketValueLongNull();
+	}
+
+	public double getFutureMarketValueLong()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getFutureMarketValueLong();
+	}
+
+	public void setFutureMarketValueLong(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureMarketValueLong(), newValue, false, false ,true);
+	}
+
+	public boolean isFutureMarketValueShortNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isFutureMarketValueShortNull();
+	}
+
+	public double getFutureMarketValueShort()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getFutureMarketValueShort();
+	}
+
+	public void setFutureMarketValueShort(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureMarketValueShort(), newValue, false, false ,true);
+	}
+
+	public boolean isFutureOptPremNDNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isFutureOptPremNDNull();
+	}
+
+	public double getFutureOptPremND()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getFutureOptPremND();
+	}
+
+	public void setFutureOptPremND(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureOptPremND(), newValue, false, false ,true);
+	}
+
+	public boolean isFutureRealizedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isFutureRealizedNull();
+	}
+
+	public double getFutureRealized()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getFutureRealized();
+	}
+
+	public void setFutureRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureRealized(), newValue, false, false ,true);
+	}
+
+	public boolean isFutureRealizedNdNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isFutureRealizedNdNull();
+	}
+
+	public double getFutureRealizedNd()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getFutureRealizedNd();
+	}
+
+	public void setFutureRealizedNd(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureRealizedNd(), newValue, false, false ,true);
+	}
+
+	public boolean isFutureUnrealizedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isFutureUnrealizedNull();
+	}
+
+	public double getFutureUnrealized()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getFutureUnrealized();
+	}
+
+	public void setFutureUnrealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureUnrealized(), newValue, false, false ,true);
+	}
+
+	public boolean isFwdNewBizNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isFwdNewBizNull();
+	}
+
+	public double getFwdNewBiz()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getFwdNewBiz();
+	}
+
+	public void setFwdNewBiz(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.fwdNewBiz(), newValue, false, false ,true);
+	}
+
+	public boolean isFwdRollNewBizNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isFwdRollNewBizNull();
+	}
+
+	public double getFwdRollNewBiz()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getFwdRollNewBiz();
+	}
+
+	public void setFwdRollNewBiz(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.fwdRollNewBiz(), newValue, false, false ,true);
+	}
+
+	public boolean isFxRevaluationAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isFxRevaluationAdjustmentNull();
+	}
+
+	public double getFxRevaluationAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getFxRevaluationAdjustment();
+	}
+
+	public void setFxRevaluationAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.fxRevaluationAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isGmiUnrealizedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isGmiUnrealizedNull();
+	}
+
+	public double getGmiUnrealized()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getGmiUnrealized();
+	}
+
+	public void setGmiUnrealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.gmiUnrealized(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestBoughtNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestBoughtNull();
+	}
+
+	public double getInterestBought()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestBought();
+	}
+
+	public void setInterestBought(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestBought(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestExpenseNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestExpenseNull();
+	}
+
+	public double getInterestExpense()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestExpense();
+	}
+
+	public void setInterestExpense(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestExpense(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestExpenseDiscountNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestExpenseDiscountNull();
+	}
+
+	public double getInterestExpenseDiscount()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestExpenseDiscount();
+	}
+
+	public void setInterestExpenseDiscount(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestExpenseDiscount(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestIncomeNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestIncomeNull();
+	}
+
+	public double getInterestIncome()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestIncome();
+	}
+
+	public void setInterestIncome(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestIncome(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestIncomeDiscountNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestIncomeDiscountNull();
+	}
+
+	public double getInterestIncomeDiscount()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestIncomeDiscount();
+	}
+
+	public void setInterestIncomeDiscount(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestIncomeDiscount(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestPayableNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestPayableNull();
+	}
+
+	public double getInterestPayable()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestPayable();
+	}
+
+	public void setInterestPayable(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestPayable(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestPayableDiscountNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestPayableDiscountNull();
+	}
+
+	public double getInterestPayableDiscount()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestPayableDiscount();
+	}
+
+	public void setInterestPayableDiscount(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestPayableDiscount(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestReceivableNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestReceivableNull();
+	}
+
+	public double getInterestReceivable()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestReceivable();
+	}
+
+	public void setInterestReceivable(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestReceivable(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestReceivableDiscountNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestReceivableDiscountNull();
+	}
+
+	public double getInterestReceivableDiscount()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestReceivableDiscount();
+	}
+
+	public void setInterestReceivableDiscount(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestReceivableDiscount(), newValue, false, false ,true);
+	}
+
+	public boolean isInterestSoldNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isInterestSoldNull();
+	}
+
+	public double getInterestSold()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getInterestSold();
+	}
+
+	public void setInterestSold(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestSold(), newValue, false, false ,true);
+	}
+
+	public boolean isLiquidityAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isLiquidityAdjustmentNull();
+	}
+
+	public double getLiquidityAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getLiquidityAdjustment();
+	}
+
+	public void setLiquidityAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.liquidityAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isMarketValueLongNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isMarketValueLongNull();
+	}
+
+	public double getMarketValueLong()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getMarketValueLong();
+	}
+
+	public void setMarketValueLong(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.marketValueLong(), newValue, false, false ,true);
+	}
+
+	public boolean isMarketValueShortNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isMarketValueShortNull();
+	}
+
+	public double getMarketValueShort()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getMarketValueShort();
+	}
+
+	public void setMarketValueShort(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.marketValueShort(), newValue, false, false ,true);
+	}
+
+	public boolean isMarketVsHedgeAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isMarketVsHedgeAdjustmentNull();
+	}
+
+	public double getMarketVsHedgeAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getMarketVsHedgeAdjustment();
+	}
+
+	public void setMarketVsHedgeAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.marketVsHedgeAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isMiscellaneousUnrealizedAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isMiscellaneousUnrealizedAdjustmentNull();
+	}
+
+	public double getMiscellaneousUnrealizedAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getMiscellaneousUnrealizedAdjustment();
+	}
+
+	public void setMiscellaneousUnrealizedAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isMiscellaneousUnrealizedNbAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isMiscellaneousUnrealizedNbAdjustmentNull();
+	}
+
+	public double getMiscellaneousUnrealizedNbAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getMiscellaneousUnrealizedNbAdjustment();
+	}
+
+	public void setMiscellaneousUnrealizedNbAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedNbAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isModelAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isModelAdjustmentNull();
+	}
+
+	public double getModelAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getModelAdjustment();
+	}
+
+	public void setModelAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.modelAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isMtmNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isMtmNull();
+	}
+
+	public double getMtm()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getMtm();
+	}
+
+	public void setMtm(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.mtm(), newValue, false, false ,true);
+	}
+
+	public boolean isNetCostNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isNetCostNull();
+	}
+
+	public double getNetCost()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getNetCost();
+	}
+
+	public void setNetCost(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.netCost(), newValue, false, false ,true);
+	}
+
+	public boolean isNewBizNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isNewBizNull();
+	}
+
+	public double getNewBiz()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getNewBiz();
+	}
+
+	public void setNewBiz(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.newBiz(), newValue, false, false ,true);
+	}
+
+	public boolean isNpvAjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isNpvAjustmentNull();
+	}
+
+	public double getNpvAjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getNpvAjustment();
+	}
+
+	public void setNpvAjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.npvAjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isNpvNbAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isNpvNbAdjustmentNull();
+	}
+
+	public double getNpvNbAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getNpvNbAdjustment();
+	}
+
+	public void setNpvNbAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.npvNbAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isOtherAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isOtherAdjustmentNull();
+	}
+
+	public double getOtherAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getOtherAdjustment();
+	}
+
+	public void setOtherAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isOtherAdjustmentInterestNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isOtherAdjustmentInterestNull();
+	}
+
+	public double getOtherAdjustmentInterest()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getOtherAdjustmentInterest();
+	}
+
+	public void setOtherAdjustmentInterest(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherAdjustmentInterest(), newValue, false, false ,true);
+	}
+
+	public boolean isOtherPnlNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isOtherPnlNull();
+	}
+
+	public double getOtherPnl()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getOtherPnl();
+	}
+
+	public void setOtherPnl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherPnl(), newValue, false, false ,true);
+	}
+
+	public boolean isOtherRealizedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isOtherRealizedNull();
+	}
+
+	public double getOtherRealized()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getOtherRealized();
+	}
+
+	public void setOtherRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherRealized(), newValue, false, false ,true);
+	}
+
+	public boolean isOtherUnrealizedAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isOtherUnrealizedAdjustmentNull();
+	}
+
+	public double getOtherUnrealizedAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getOtherUnrealizedAdjustment();
+	}
+
+	public void setOtherUnrealizedAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherUnrealizedAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isPaydownLtdPnlNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isPaydownLtdPnlNull();
+	}
+
+	public double getPaydownLtdPnl()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getPaydownLtdPnl();
+	}
+
+	public void setPaydownLtdPnl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.paydownLtdPnl(), newValue, false, false ,true);
+	}
+
+	public boolean isPaydownPnlNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isPaydownPnlNull();
+	}
+
+	public double getPaydownPnl()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getPaydownPnl();
+	}
+
+	public void setPaydownPnl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.paydownPnl(), newValue, false, false ,true);
+	}
+
+	public boolean isPendingAccrualRealizedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isPendingAccrualRealizedNull();
+	}
+
+	public double getPendingAccrualRealized()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getPendingAccrualRealized();
+	}
+
+	public void setPendingAccrualRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.pendingAccrualRealized(), newValue, false, false ,true);
+	}
+
+	public boolean isPositionTypeNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isPositionTypeNull();
+	}
+
+	public int getPositionType()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getPositionType();
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(AggregateTrialCurrencyExposureFinder.positionType(), newValue, true, false ,false);
+	}
+
+	public boolean isProductCurrencyNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isProductCurrencyNull();
+	}
+
+	public String getProductCurrency()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getProductCurrency();
+	}
+
+	public void setProductCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(AggregateTrialCurrencyExposureFinder.productCurrency(), newValue, true, false );
+	}
+
+	public boolean isRealizedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isRealizedNull();
+	}
+
+	public double getRealized()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getRealized();
+	}
+
+	public void setRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.realized(), newValue, false, false ,true);
+	}
+
+	public boolean isRealizedAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isRealizedAdjustmentNull();
+	}
+
+	public double getRealizedAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getRealizedAdjustment();
+	}
+
+	public void setRealizedAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.realizedAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isReserveMarketValueNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isReserveMarketValueNull();
+	}
+
+	public double getReserveMarketValue()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getReserveMarketValue();
+	}
+
+	public void setReserveMarketValue(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.reserveMarketValue(), newValue, false, false ,true);
+	}
+
+	public boolean isTradeFeeNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isTradeFeeNull();
+	}
+
+	public double getTradeFee()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getTradeFee();
+	}
+
+	public void setTradeFee(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.tradeFee(), newValue, false, false ,true);
+	}
+
+	public boolean isTradingNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isTradingNull();
+	}
+
+	public double getTrading()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getTrading();
+	}
+
+	public void setTrading(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.trading(), newValue, false, false ,true);
+	}
+
+	public boolean isTransferTaxNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isTransferTaxNull();
+	}
+
+	public double getTransferTax()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getTransferTax();
+	}
+
+	public void setTransferTax(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.transferTax(), newValue, false, false ,true);
+	}
+
+	public boolean isUnobsPnlAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isUnobsPnlAdjustmentNull();
+	}
+
+	public double getUnobsPnlAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getUnobsPnlAdjustment();
+	}
+
+	public void setUnobsPnlAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unobsPnlAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isUnrealizedNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isUnrealizedNull();
+	}
+
+	public double getUnrealized()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getUnrealized();
+	}
+
+	public void setUnrealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unrealized(), newValue, false, false ,true);
+	}
+
+	public boolean isUnrealizedAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isUnrealizedAdjustmentNull();
+	}
+
+	public double getUnrealizedAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getUnrealizedAdjustment();
+	}
+
+	public void setUnrealizedAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unrealizedAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isUnrecAdjustmentInterestNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isUnrecAdjustmentInterestNull();
+	}
+
+	public double getUnrecAdjustmentInterest()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getUnrecAdjustmentInterest();
+	}
+
+	public void setUnrecAdjustmentInterest(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unrecAdjustmentInterest(), newValue, false, false ,true);
+	}
+
+	public boolean isUnsettledPurchaseInterestNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isUnsettledPurchaseInterestNull();
+	}
+
+	public double getUnsettledPurchaseInterest()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getUnsettledPurchaseInterest();
+	}
+
+	public void setUnsettledPurchaseInterest(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unsettledPurchaseInterest(), newValue, false, false ,true);
+	}
+
+	public boolean isValuationAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isValuationAdjustmentNull();
+	}
+
+	public double getValuationAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getValuationAdjustment();
+	}
+
+	public void setValuationAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.valuationAdjustment(), newValue, false, false ,true);
+	}
+
+	public boolean isWithholdingTaxAdjustmentNull()
+	{
+		return ((AggregateTrialCurrencyExposureData) this.zSynchronizedGetData()).isWithholdingTaxAdjustmentNull();
+	}
+
+	public double getWithholdingTaxAdjustment()
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData) this.zSynchronizedGetData();
+		return data.getWithholdingTaxAdjustment();
+	}
+
+	public void setWithholdingTaxAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.withholdingTaxAdjustment(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.dataLevel(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestReceivable(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestPayable(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestIncome(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestExpense(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestBought(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestSold(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestReceivableDiscount(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestPayableDiscount(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestIncomeDiscount(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.interestExpenseDiscount(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.unrecAdjustmentInterest(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.otherAdjustmentInterest(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.costLong(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.costShort(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.marketValueLong(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.marketValueShort(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.futureMarketValueLong(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.futureMarketValueShort(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.trading(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.realized(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.unrealized(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.futureRealized(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.futureUnrealized(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.currencyRealized(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.currencyUnrealized(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.unrealizedAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.creditValuationAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.liquidityAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.npvAjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.modelAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.bidOfferAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.withholdingTaxAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.customerReceivableAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.customerPayableAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.marketVsHedgeAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.unobsPnlAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.realizedAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.otherRealized(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.newBiz(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.transferTax(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.exchangeTax(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.tradeFee(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.cashDifference(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.baseControl(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.currencyPos(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.expensePos(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.futureRealizedNd(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.futureOptPremND(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.unsettledPurchaseInterest(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.otherAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.pendingAccrualRealized(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.expenseAccrual(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.expensePayable(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.otherUnrealizedAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.contractNpv(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.valuationAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.fxRevaluationAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.dividendAccrualLong(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.dividendAccrualShort(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.netCost(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.dividendPaidReceived(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.fwdNewBiz(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.fwdRollNewBiz(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.mtm(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.gmiUnrealized(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.reserveMarketValue(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedNbAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.npvNbAdjustment(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.allocationPnl(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.paydownPnl(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.paydownLtdPnl(), false);
+		zNullify(behavior, data, AggregateTrialCurrencyExposureFinder.otherPnl(), false);
+	}
+
+	public void setDataLevelNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.dataLevel(), false);
+	}
+
+	public void setInterestReceivableNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestReceivable(), false);
+	}
+
+	public void setInterestPayableNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestPayable(), false);
+	}
+
+	public void setInterestIncomeNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestIncome(), false);
+	}
+
+	public void setInterestExpenseNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestExpense(), false);
+	}
+
+	public void setInterestBoughtNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestBought(), false);
+	}
+
+	public void setInterestSoldNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestSold(), false);
+	}
+
+	public void setInterestReceivableDiscountNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestReceivableDiscount(), false);
+	}
+
+	public void setInterestPayableDiscountNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestPayableDiscount(), false);
+	}
+
+	public void setInterestIncomeDiscountNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestIncomeDiscount(), false);
+	}
+
+	public void setInterestExpenseDiscountNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.interestExpenseDiscount(), false);
+	}
+
+	public void setUnrecAdjustmentInterestNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.unrecAdjustmentInterest(), false);
+	}
+
+	public void setOtherAdjustmentInterestNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.otherAdjustmentInterest(), false);
+	}
+
+	public void setCostLongNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.costLong(), false);
+	}
+
+	public void setCostShortNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.costShort(), false);
+	}
+
+	public void setMarketValueLongNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.marketValueLong(), false);
+	}
+
+	public void setMarketValueShortNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.marketValueShort(), false);
+	}
+
+	public void setFutureMarketValueLongNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.futureMarketValueLong(), false);
+	}
+
+	public void setFutureMarketValueShortNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.futureMarketValueShort(), false);
+	}
+
+	public void setTradingNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.trading(), false);
+	}
+
+	public void setRealizedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.realized(), false);
+	}
+
+	public void setUnrealizedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.unrealized(), false);
+	}
+
+	public void setFutureRealizedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.futureRealized(), false);
+	}
+
+	public void setFutureUnrealizedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.futureUnrealized(), false);
+	}
+
+	public void setCurrencyRealizedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.currencyRealized(), false);
+	}
+
+	public void setCurrencyUnrealizedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.currencyUnrealized(), false);
+	}
+
+	public void setUnrealizedAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.unrealizedAdjustment(), false);
+	}
+
+	public void setMiscellaneousUnrealizedAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedAdjustment(), false);
+	}
+
+	public void setCreditValuationAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.creditValuationAdjustment(), false);
+	}
+
+	public void setLiquidityAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.liquidityAdjustment(), false);
+	}
+
+	public void setNpvAjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.npvAjustment(), false);
+	}
+
+	public void setModelAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.modelAdjustment(), false);
+	}
+
+	public void setBidOfferAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.bidOfferAdjustment(), false);
+	}
+
+	public void setWithholdingTaxAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.withholdingTaxAdjustment(), false);
+	}
+
+	public void setCustomerReceivableAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.customerReceivableAdjustment(), false);
+	}
+
+	public void setCustomerPayableAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.customerPayableAdjustment(), false);
+	}
+
+	public void setMarketVsHedgeAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.marketVsHedgeAdjustment(), false);
+	}
+
+	public void setUnobsPnlAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.unobsPnlAdjustment(), false);
+	}
+
+	public void setRealizedAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.realizedAdjustment(), false);
+	}
+
+	public void setOtherRealizedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.otherRealized(), false);
+	}
+
+	public void setNewBizNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.newBiz(), false);
+	}
+
+	public void setTransferTaxNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.transferTax(), false);
+	}
+
+	public void setExchangeTaxNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.exchangeTax(), false);
+	}
+
+	public void setTradeFeeNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.tradeFee(), false);
+	}
+
+	public void setCashDifferenceNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.cashDifference(), false);
+	}
+
+	public void setBaseControlNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.baseControl(), false);
+	}
+
+	public void setCurrencyPosNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.currencyPos(), false);
+	}
+
+	public void setExpensePosNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.expensePos(), false);
+	}
+
+	public void setFutureRealizedNdNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.futureRealizedNd(), false);
+	}
+
+	public void setFutureOptPremNDNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.futureOptPremND(), false);
+	}
+
+	public void setUnsettledPurchaseInterestNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.unsettledPurchaseInterest(), false);
+	}
+
+	public void setOtherAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.otherAdjustment(), false);
+	}
+
+	public void setPendingAccrualRealizedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.pendingAccrualRealized(), false);
+	}
+
+	public void setExpenseAccrualNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.expenseAccrual(), false);
+	}
+
+	public void setExpensePayableNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.expensePayable(), false);
+	}
+
+	public void setOtherUnrealizedAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.otherUnrealizedAdjustment(), false);
+	}
+
+	public void setContractNpvNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.contractNpv(), false);
+	}
+
+	public void setValuationAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.valuationAdjustment(), false);
+	}
+
+	public void setFxRevaluationAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.fxRevaluationAdjustment(), false);
+	}
+
+	public void setDividendAccrualLongNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.dividendAccrualLong(), false);
+	}
+
+	public void setDividendAccrualShortNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.dividendAccrualShort(), false);
+	}
+
+	public void setNetCostNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.netCost(), false);
+	}
+
+	public void setDividendPaidReceivedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.dividendPaidReceived(), false);
+	}
+
+	public void setFwdNewBizNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.fwdNewBiz(), false);
+	}
+
+	public void setFwdRollNewBizNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.fwdRollNewBiz(), false);
+	}
+
+	public void setMtmNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.mtm(), false);
+	}
+
+	public void setGmiUnrealizedNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.gmiUnrealized(), false);
+	}
+
+	public void setReserveMarketValueNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.reserveMarketValue(), false);
+	}
+
+	public void setMiscellaneousUnrealizedNbAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedNbAdjustment(), false);
+	}
+
+	public void setNpvNbAdjustmentNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.npvNbAdjustment(), false);
+	}
+
+	public void setAllocationPnlNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.allocationPnl(), false);
+	}
+
+	public void setPaydownPnlNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.paydownPnl(), false);
+	}
+
+	public void setPaydownLtdPnlNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.paydownLtdPnl(), false);
+	}
+
+	public void setOtherPnlNull()
+	{
+		zNullify(AggregateTrialCurrencyExposureFinder.otherPnl(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AggregateTrialCurrencyExposureData _newData = (AggregateTrialCurrencyExposureData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AggregateTrialCurrencyExposureData _newData = (AggregateTrialCurrencyExposureData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AggregateTrialCurrencyExposureData _newData = (AggregateTrialCurrencyExposureData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AggregateTrialCurrencyExposure zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AggregateTrialCurrencyExposure original = (AggregateTrialCurrencyExposure) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AggregateTrialCurrencyExposureFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AggregateTrialCurrencyExposureFinder.getMithraObjectPortal();
+	}
+
+	public AggregateTrialCurrencyExposure getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.allocationPnl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.baseControl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.bidOfferAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.cashDifference(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.contractNpv(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.costLong(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.costShort(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.creditValuationAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.currencyPos(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.currencyRealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.currencyUnrealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.customerPayableAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.customerReceivableAdjustment(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AggregateTrialCurrencyExposureFinder.dataLevel(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.dividendAccrualLong(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.dividendAccrualShort(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.dividendPaidReceived(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.exchangeTax(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.expenseAccrual(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.expensePayable(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.expensePos(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.futureMarketValueLong(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.futureMarketValueShort(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.futureOptPremND(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.futureRealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.futureRealizedNd(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.futureUnrealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.fwdNewBiz(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.fwdRollNewBiz(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.fxRevaluationAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.gmiUnrealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestBought(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestExpense(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestExpenseDiscount(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestIncome(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestIncomeDiscount(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestPayable(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestPayableDiscount(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestReceivable(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestReceivableDiscount(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.interestSold(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.liquidityAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.marketValueLong(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.marketValueShort(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.marketVsHedgeAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedNbAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.modelAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.mtm(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.netCost(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.newBiz(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.npvAjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.npvNbAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.otherAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.otherAdjustmentInterest(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.otherPnl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.otherRealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.otherUnrealizedAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.paydownLtdPnl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.paydownPnl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.pendingAccrualRealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.realized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.realizedAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.reserveMarketValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.tradeFee(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.trading(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.transferTax(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.unobsPnlAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.unrealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.unrealizedAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.unrecAdjustmentInterest(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.unsettledPurchaseInterest(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.valuationAdjustment(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AggregateTrialCurrencyExposureFinder.withholdingTaxAdjustment(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AggregateTrialCurrencyExposureFinder.account9Digits(), false);
+		changed |= zUpdateString(behavior, data, newData, AggregateTrialCurrencyExposureFinder.currency(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AggregateTrialCurrencyExposureFinder.positionType(), false);
+		changed |= zUpdateString(behavior, data, newData, AggregateTrialCurrencyExposureFinder.productCurrency(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AggregateTrialCurrencyExposureAbstract result = (AggregateTrialCurrencyExposureAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
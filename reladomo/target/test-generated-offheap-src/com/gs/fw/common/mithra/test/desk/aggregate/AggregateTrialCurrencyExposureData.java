@@ -0,0 +1,2806 @@
+package com.gs.fw.common.mithra.test.desk.aggregate;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AggregateTrialCurrencyExposureData
+implements MithraDataObject
+{
+	private long isNullBits0 = 0;
+	private short isNullBits1 = 0;
+	private int account9Digits;
+	private double allocationPnl;
+	private double baseControl;
+	private double bidOfferAdjustment;
+	private double cashDifference;
+	private double contractNpv;
+	private double costLong;
+	private double costShort;
+	private double creditValuationAdjustment;
+	private String currency;
+	private double currencyPos;
+	private double currencyRealized;
+	private double currencyUnrealized;
+	private double customerPayableAdjustment;
+	private double customerReceivableAdjustment;
+	private int dataLevel;
+	private double dividendAccrualLong;
+	private double dividendAccrualShort;
+	private double dividendPaidReceived;
+	private double exchangeTax;
+	private double expenseAccrual;
+	private double expensePayable;
+	private double expensePos;
+	private double futureMarketValueLong;
+	private double futureMarketValueShort;
+	private double futureOptPremND;
+	private double futureRealized;
+	private double futureRealizedNd;
+	private double futureUnrealized;
+	private double fwdNewBiz;
+	private double fwdRollNewBiz;
+	private double fxRevaluationAdjustment;
+	private double gmiUnrealized;
+	private double interestBought;
+	private double interestExpense;
+	private double interestExpenseDiscount;
+	private double interestIncome;
+	private double interestIncomeDiscount;
+	private double interestPayable;
+	private double interestPayableDiscount;
+	private double interestReceivable;
+	private double interestReceivableDiscount;
+	private double interestSold;
+	private double liquidityAdjustment;
+	private double marketValueLong;
+	private double marketValueShort;
+	private double marketVsHedgeAdjustment;
+	private double miscellaneousUnrealizedAdjustment;
+	private double miscellaneousUnrealizedNbAdjustment;
+	private double modelAdjustment;
+	private double mtm;
+	private double netCost;
+	private double newBiz;
+	private double npvAjustment;
+	private double npvNbAdjustment;
+	private double otherAdjustment;
+	private double otherAdjustmentInterest;
+	private double otherPnl;
+	private double otherRealized;
+	private double otherUnrealizedAdjustment;
+	private double paydownLtdPnl;
+	private double paydownPnl;
+	private double pendingAccrualRealized;
+	private int positionType;
+	private String productCurrency;
+	private double realized;
+	private double realizedAdjustment;
+	private double reserveMarketValue;
+	private double tradeFee;
+	private double trading;
+	private double transferTax;
+	private double unobsPnlAdjustment;
+	private double unrealized;
+	private double unrealizedAdjustment;
+	private double unrecAdjustmentInterest;
+	private double unsettledPurchaseInterest;
+	private double valuationAdjustment;
+	private double withholdingTaxAdjustment;
+	public boolean isAccount9DigitsNull()
+	{
+		return false;
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.getCurrency() == null;
+	}
+
+	public boolean isPositionTypeNull()
+	{
+		return false;
+	}
+
+	public boolean isProductCurrencyNull()
+	{
+		return this.getProductCurrency() == null;
+	}
+
+	public boolean isDataLevelNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isInterestReceivableNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isInterestPayableNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isInterestIncomeNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isInterestExpenseNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isInterestBoughtNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isInterestSoldNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isInterestReceivableDiscountNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public boolean isInterestPayableDiscountNull()
+	{
+		return (isNullBits0 & 1 << 8) != 0 ;
+	}
+
+	public boolean isInterestIncomeDiscountNull()
+	{
+		return (isNullBits0 & 1 << 9) != 0 ;
+	}
+
+	public boolean isInterestExpenseDiscountNull()
+	{
+		return (isNullBits0 & 1 << 10) != 0 ;
+	}
+
+	public boolean isUnrecAdjustmentInterestNull()
+	{
+		return (isNullBits0 & 1 << 11) != 0 ;
+	}
+
+	public boolean isOtherAdjustmentInterestNull()
+	{
+		return (isNullBits0 & 1 << 12) != 0 ;
+	}
+
+	public boolean isCostLongNull()
+	{
+		return (isNullBits0 & 1 << 13) != 0 ;
+	}
+
+	public boolean isCostShortNull()
+	{
+		return (isNullBits0 & 1 << 14) != 0 ;
+	}
+
+	public boolean isMarketValueLongNull()
+	{
+		return (isNullBits0 & 1 << 15) != 0 ;
+	}
+
+	public boolean isMarketValueShortNull()
+	{
+		return (isNullBits0 & 1 << 16) != 0 ;
+	}
+
+	public boolean isFutureMarketValueLongNull()
+	{
+		return (isNullBits0 & 1 << 17) != 0 ;
+	}
+
+	public boolean isFutureMarketValueShortNull()
+	{
+		return (isNullBits0 & 1 << 18) != 0 ;
+	}
+
+	public boolean isTradingNull()
+	{
+		return (isNullBits0 & 1 << 19) != 0 ;
+	}
+
+	public boolean isRealizedNull()
+	{
+		return (isNullBits0 & 1 << 20) != 0 ;
+	}
+
+	public boolean isUnrealizedNull()
+	{
+		return (isNullBits0 & 1 << 21) != 0 ;
+	}
+
+	public boolean isFutureRealizedNull()
+	{
+		return (isNullBits0 & 1 << 22) != 0 ;
+	}
+
+	public boolean isFutureUnrealizedNull()
+	{
+		return (isNullBits0 & 1 << 23) != 0 ;
+	}
+
+	public boolean isCurrencyRealizedNull()
+	{
+		return (isNullBits0 & 1 << 24) != 0 ;
+	}
+
+	public boolean isCurrencyUnrealizedNull()
+	{
+		return (isNullBits0 & 1 << 25) != 0 ;
+	}
+
+	public boolean isUnrealizedAdjustmentNull()
+	{
+		return (isNullBits0 & 1 << 26) != 0 ;
+	}
+
+	public boolean isMiscellaneousUnrealizedAdjustmentNull()
+	{
+		return (isNullBits0 & 1 << 27) != 0 ;
+	}
+
+	public boolean isCreditValuationAdjustmentNull()
+	{
+		return (isNullBits0 & 1 << 28) != 0 ;
+	}
+
+	public boolean isLiquidityAdjustmentNull()
+	{
+		return (isNullBits0 & 1 << 29) != 0 ;
+	}
+
+	public boolean isNpvAjustmentNull()
+	{
+		return (isNullBits0 & 1 << 30) != 0 ;
+	}
+
+	public boolean isModelAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 31) != 0 ;
+	}
+
+	public boolean isBidOfferAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 32) != 0 ;
+	}
+
+	public boolean isWithholdingTaxAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 33) != 0 ;
+	}
+
+	public boolean isCustomerReceivableAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 34) != 0 ;
+	}
+
+	public boolean isCustomerPayableAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 35) != 0 ;
+	}
+
+	public boolean isMarketVsHedgeAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 36) != 0 ;
+	}
+
+	public boolean isUnobsPnlAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 37) != 0 ;
+	}
+
+	public boolean isRealizedAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 38) != 0 ;
+	}
+
+	public boolean isOtherRealizedNull()
+	{
+		return (isNullBits0 & 1L << 39) != 0 ;
+	}
+
+	public boolean isNewBizNull()
+	{
+		return (isNullBits0 & 1L << 40) != 0 ;
+	}
+
+	public boolean isTransferTaxNull()
+	{
+		return (isNullBits0 & 1L << 41) != 0 ;
+	}
+
+	public boolean isExchangeTaxNull()
+	{
+		return (isNullBits0 & 1L << 42) != 0 ;
+	}
+
+	public boolean isTradeFeeNull()
+	{
+		return (isNullBits0 & 1L << 43) != 0 ;
+	}
+
+	public boolean isCashDifferenceNull()
+	{
+		return (isNullBits0 & 1L << 44) != 0 ;
+	}
+
+	public boolean isBaseControlNull()
+	{
+		return (isNullBits0 & 1L << 45) != 0 ;
+	}
+
+	public boolean isCurrencyPosNull()
+	{
+		return (isNullBits0 & 1L << 46) != 0 ;
+	}
+
+	public boolean isExpensePosNull()
+	{
+		return (isNullBits0 & 1L << 47) != 0 ;
+	}
+
+	public boolean isFutureRealizedNdNull()
+	{
+		return (isNullBits0 & 1L << 48) != 0 ;
+	}
+
+	public boolean isFutureOptPremNDNull()
+	{
+		return (isNullBits0 & 1L << 49) != 0 ;
+	}
+
+	public boolean isUnsettledPurchaseInterestNull()
+	{
+		return (isNullBits0 & 1L << 50) != 0 ;
+	}
+
+	public boolean isOtherAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 51) != 0 ;
+	}
+
+	public boolean isPendingAccrualRealizedNull()
+	{
+		return (isNullBits0 & 1L << 52) != 0 ;
+	}
+
+	public boolean isExpenseAccrualNull()
+	{
+		return (isNullBits0 & 1L << 53) != 0 ;
+	}
+
+	public boolean isExpensePayableNull()
+	{
+		return (isNullBits0 & 1L << 54) != 0 ;
+	}
+
+	public boolean isOtherUnrealizedAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 55) != 0 ;
+	}
+
+	public boolean isContractNpvNull()
+	{
+		return (isNullBits0 & 1L << 56) != 0 ;
+	}
+
+	public boolean isValuationAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 57) != 0 ;
+	}
+
+	public boolean isFxRevaluationAdjustmentNull()
+	{
+		return (isNullBits0 & 1L << 58) != 0 ;
+	}
+
+	public boolean isDividendAccrualLongNull()
+	{
+		return (isNullBits0 & 1L << 59) != 0 ;
+	}
+
+	public boolean isDividendAccrualShortNull()
+	{
+		return (isNullBits0 & 1L << 60) != 0 ;
+	}
+
+	public boolean isNetCostNull()
+	{
+		return (isNullBits0 & 1L << 61) != 0 ;
+	}
+
+	public boolean isDividendPaidReceivedNull()
+	{
+		return (isNullBits0 & 1L << 62) != 0 ;
+	}
+
+	public boolean isFwdNewBizNull()
+	{
+		return (isNullBits0 & 1L << 63) != 0 ;
+	}
+
+	public boolean isFwdRollNewBizNull()
+	{
+		return (isNullBits1 & 1) != 0 ;
+	}
+
+	public boolean isMtmNull()
+	{
+		return (isNullBits1 & 1 << 1) != 0 ;
+	}
+
+	public boolean isGmiUnrealizedNull()
+	{
+		return (isNullBits1 & 1 << 2) != 0 ;
+	}
+
+	public boolean isReserveMarketValueNull()
+	{
+		return (isNullBits1 & 1 << 3) != 0 ;
+	}
+
+	public boolean isMiscellaneousUnrealizedNbAdjustmentNull()
+	{
+		return (isNullBits1 & 1 << 4) != 0 ;
+	}
+
+	public boolean isNpvNbAdjustmentNull()
+	{
+		return (isNullBits1 & 1 << 5) != 0 ;
+	}
+
+	public boolean isAllocationPnlNull()
+	{
+		return (isNullBits1 & 1 << 6) != 0 ;
+	}
+
+	public boolean isPaydownPnlNull()
+	{
+		return (isNullBits1 & 1 << 7) != 0 ;
+	}
+
+	public boolean isPaydownLtdPnlNull()
+	{
+		return (isNullBits1 & 1 << 8) != 0 ;
+	}
+
+	public boolean isOtherPnlNull()
+	{
+		return (isNullBits1 & 1 << 9) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.account9Digits);
+		out.writeDouble(this.allocationPnl);
+		out.writeDouble(this.baseControl);
+		out.writeDouble(this.bidOfferAdjustment);
+		out.writeDouble(this.cashDifference);
+		out.writeDouble(this.contractNpv);
+		out.writeDouble(this.costLong);
+		out.writeDouble(this.costShort);
+		out.writeDouble(this.creditValuationAdjustment);
+		out.writeObject(this.currency);
+		out.writeDouble(this.currencyPos);
+		out.writeDouble(this.currencyRealized);
+		out.writeDouble(this.currencyUnrealized);
+		out.writeDouble(this.customerPayableAdjustment);
+		out.writeDouble(this.customerReceivableAdjustment);
+		out.writeInt(this.dataLevel);
+		out.writeDouble(this.dividendAccrualLong);
+		out.writeDouble(this.dividendAccrualShort);
+		out.writeDouble(this.dividendPaidReceived);
+		out.writeDouble(this.exchangeTax);
+		out.writeDouble(this.expenseAccrual);
+		out.writeDouble(this.expensePayable);
+		out.writeDouble(this.expensePos);
+		out.writeDouble(this.futureMarketValueLong);
+		out.writeDouble(this.futureMarketValueShort);
+		out.writeDouble(this.futureOptPremND);
+		out.writeDouble(this.futureRealized);
+		out.writeDouble(this.futureRealizedNd);
+		out.writeDouble(this.futureUnrealized);
+		out.writeDouble(this.fwdNewBiz);
+		out.writeDouble(this.fwdRollNewBiz);
+		out.writeDouble(this.fxRevaluationAdjustment);
+		out.writeDouble(this.gmiUnrealized);
+		out.writeDouble(this.interestBought);
+		out.writeDouble(this.interestExpense);
+		out.writeDouble(this.interestExpenseDiscount);
+		out.writeDouble(this.interestIncome);
+		out.writeDouble(this.interestIncomeDiscount);
+		out.writeDouble(this.interestPayable);
+		out.writeDouble(this.interestPayableDiscount);
+		out.writeDouble(this.interestReceivable);
+		out.writeDouble(this.interestReceivableDiscount);
+		out.writeDouble(this.interestSold);
+		out.writeDouble(this.liquidityAdjustment);
+		out.writeDouble(this.marketValueLong);
+		out.writeDouble(this.marketValueShort);
+		out.writeDouble(this.marketVsHedgeAdjustment);
+		out.writeDouble(this.miscellaneousUnrealizedAdjustment);
+		out.writeDouble(this.miscellaneousUnrealizedNbAdjustment);
+		out.writeDouble(this.modelAdjustment);
+		out.writeDouble(this.mtm);
+		out.writeDouble(this.netCost);
+		out.writeDouble(this.newBiz);
+		out.writeDouble(this.npvAjustment);
+		out.writeDouble(this.npvNbAdjustment);
+		out.writeDouble(this.otherAdjustment);
+		out.writeDouble(this.otherAdjustmentInterest);
+		out.writeDouble(this.otherPnl);
+		out.writeDouble(this.otherRealized);
+		out.writeDouble(this.otherUnrealizedAdjustment);
+		out.writeDouble(this.paydownLtdPnl);
+		out.writeDouble(this.paydownPnl);
+		out.writeDouble(this.pendingAccrualRealized);
+		out.writeInt(this.positionType);
+		out.writeObject(this.productCurrency);
+		out.writeDouble(this.realized);
+		out.writeDouble(this.realizedAdjustment);
+		out.writeDouble(this.reserveMarketValue);
+		out.writeDouble(this.tradeFee);
+		out.writeDouble(this.trading);
+		out.writeDouble(this.transferTax);
+		out.writeDouble(this.unobsPnlAdjustment);
+		out.writeDouble(this.unrealized);
+		out.writeDouble(this.unrealizedAdjustment);
+		out.writeDouble(this.unrecAdjustmentInterest);
+		out.writeDouble(this.unsettledPurchaseInterest);
+		out.writeDouble(this.valuationAdjustment);
+		out.writeDouble(this.withholdingTaxAdjustment);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.isNullBits0);
+		out.writeShort(this.isNullBits1);
+	}
+
+	public int getAccount9Digits()
+	{
+		return this.account9Digits;
+	}
+
+	public void setAccount9Digits(int value)
+	{
+		this.account9Digits = value;
+	}
+
+	public void setAccount9DigitsNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public double getAllocationPnl()
+	{
+		return this.allocationPnl;
+	}
+
+	public void setAllocationPnl(double value)
+	{
+		this.allocationPnl = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1 << 6));
+	}
+
+	public double getBaseControl()
+	{
+		return this.baseControl;
+	}
+
+	public void setBaseControl(double value)
+	{
+		this.baseControl = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 45);
+	}
+
+	public double getBidOfferAdjustment()
+	{
+		return this.bidOfferAdjustment;
+	}
+
+	public void setBidOfferAdjustment(double value)
+	{
+		this.bidOfferAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 32);
+	}
+
+	public double getCashDifference()
+	{
+		return this.cashDifference;
+	}
+
+	public void setCashDifference(double value)
+	{
+		this.cashDifference = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 44);
+	}
+
+	public double getContractNpv()
+	{
+		return this.contractNpv;
+	}
+
+	public void setContractNpv(double value)
+	{
+		this.contractNpv = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 56);
+	}
+
+	public double getCostLong()
+	{
+		return this.costLong;
+	}
+
+	public void setCostLong(double value)
+	{
+		this.costLong = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 13);
+	}
+
+	public double getCostShort()
+	{
+		return this.costShort;
+	}
+
+	public void setCostShort(double value)
+	{
+		this.costShort = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 14);
+	}
+
+	public double getCreditValuationAdjustment()
+	{
+		return this.creditValuationAdjustment;
+	}
+
+	public void setCreditValuationAdjustment(double value)
+	{
+		this.creditValuationAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 28);
+	}
+
+	public String getCurrency()
+	{
+		return this.currency;
+	}
+
+	public int zGetCurrencyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(currency);
+	}
+
+	public void setCurrency(String value)
+	{
+		this.currency = StringPool.getInstance().getOrAddToCache(value, AggregateTrialCurrencyExposureFinder.isFullCache());
+	}
+
+	public void setCurrencyNull()
+	{
+		this.setCurrency(null);
+	}
+
+	public double getCurrencyPos()
+	{
+		return this.currencyPos;
+	}
+
+	public void setCurrencyPos(double value)
+	{
+		this.currencyPos = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 46);
+	}
+
+	public double getCurrencyRealized()
+	{
+		return this.currencyRealized;
+	}
+
+	public void setCurrencyRealized(double value)
+	{
+		this.currencyRealized = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 24);
+	}
+
+	public double getCurrencyUnrealized()
+	{
+		return this.currencyUnrealized;
+	}
+
+	public void setCurrencyUnrealized(double value)
+	{
+		this.currencyUnrealized = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 25);
+	}
+
+	public double getCustomerPayableAdjustment()
+	{
+		return this.customerPayableAdjustment;
+	}
+
+	public void setCustomerPayableAdjustment(double value)
+	{
+		this.customerPayableAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 35);
+	}
+
+	public double getCustomerReceivableAdjustment()
+	{
+		return this.customerReceivableAdjustment;
+	}
+
+	public void setCustomerReceivableAdjustment(double value)
+	{
+		this.customerReceivableAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 34);
+	}
+
+	public int getDataLevel()
+	{
+		return this.dataLevel;
+	}
+
+	public void setDataLevel(int value)
+	{
+		this.dataLevel = value;
+		isNullBits0 = isNullBits0 & ~( 1);
+	}
+
+	public double getDividendAccrualLong()
+	{
+		return this.dividendAccrualLong;
+	}
+
+	public void setDividendAccrualLong(double value)
+	{
+		this.dividendAccrualLong = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 59);
+	}
+
+	public double getDividendAccrualShort()
+	{
+		return this.dividendAccrualShort;
+	}
+
+	public void setDividendAccrualShort(double value)
+	{
+		this.dividendAccrualShort = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 60);
+	}
+
+	public double getDividendPaidReceived()
+	{
+		return this.dividendPaidReceived;
+	}
+
+	public void setDividendPaidReceived(double value)
+	{
+		this.dividendPaidReceived = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 62);
+	}
+
+	public double getExchangeTax()
+	{
+		return this.exchangeTax;
+	}
+
+	public void setExchangeTax(double value)
+	{
+		this.exchangeTax = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 42);
+	}
+
+	public double getExpenseAccrual()
+	{
+		return this.expenseAccrual;
+	}
+
+	public void setExpenseAccrual(double value)
+	{
+		this.expenseAccrual = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 53);
+	}
+
+	public double getExpensePayable()
+	{
+		return this.expensePayable;
+	}
+
+	public void setExpensePayable(double value)
+	{
+		this.expensePayable = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 54);
+	}
+
+	public double getExpensePos()
+	{
+		return this.expensePos;
+	}
+
+	public void setExpensePos(double value)
+	{
+		this.expensePos = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 47);
+	}
+
+	public double getFutureMarketValueLong()
+	{
+		return this.futureMarketValueLong;
+	}
+
+	public void setFutureMarketValueLong(double value)
+	{
+		this.futureMarketValueLong = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 17);
+	}
+
+	public double getFutureMarketValueShort()
+	{
+		return this.futureMarketValueShort;
+	}
+
+	public void setFutureMarketValueShort(double value)
+	{
+		this.futureMarketValueShort = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 18);
+	}
+
+	public double getFutureOptPremND()
+	{
+		return this.futureOptPremND;
+	}
+
+	public void setFutureOptPremND(double value)
+	{
+		this.futureOptPremND = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 49);
+	}
+
+	public double getFutureRealized()
+	{
+		return this.futureRealized;
+	}
+
+	public void setFutureRealized(double value)
+	{
+		this.futureRealized = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 22);
+	}
+
+	public double getFutureRealizedNd()
+	{
+		return this.futureRealizedNd;
+	}
+
+	public void setFutureRealizedNd(double value)
+	{
+		this.futureRealizedNd = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 48);
+	}
+
+	public double getFutureUnrealized()
+	{
+		return this.futureUnrealized;
+	}
+
+	public void setFutureUnrealized(double value)
+	{
+		this.futureUnrealized = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 23);
+	}
+
+	public double getFwdNewBiz()
+	{
+		return this.fwdNewBiz;
+	}
+
+	public void setFwdNewBiz(double value)
+	{
+		this.fwdNewBiz = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 63);
+	}
+
+	public double getFwdRollNewBiz()
+	{
+		return this.fwdRollNewBiz;
+	}
+
+	public void setFwdRollNewBiz(double value)
+	{
+		this.fwdRollNewBiz = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1));
+	}
+
+	public double getFxRevaluationAdjustment()
+	{
+		return this.fxRevaluationAdjustment;
+	}
+
+	public void setFxRevaluationAdjustment(double value)
+	{
+		this.fxRevaluationAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 58);
+	}
+
+	public double getGmiUnrealized()
+	{
+		return this.gmiUnrealized;
+	}
+
+	public void setGmiUnrealized(double value)
+	{
+		this.gmiUnrealized = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1 << 2));
+	}
+
+	public double getInterestBought()
+	{
+		return this.interestBought;
+	}
+
+	public void setInterestBought(double value)
+	{
+		this.interestBought = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 5);
+	}
+
+	public double getInterestExpense()
+	{
+		return this.interestExpense;
+	}
+
+	public void setInterestExpense(double value)
+	{
+		this.interestExpense = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 4);
+	}
+
+	public double getInterestExpenseDiscount()
+	{
+		return this.interestExpenseDiscount;
+	}
+
+	public void setInterestExpenseDiscount(double value)
+	{
+		this.interestExpenseDiscount = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 10);
+	}
+
+	public double getInterestIncome()
+	{
+		return this.interestIncome;
+	}
+
+	public void setInterestIncome(double value)
+	{
+		this.interestIncome = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 3);
+	}
+
+	public double getInterestIncomeDiscount()
+	{
+		return this.interestIncomeDiscount;
+	}
+
+	public void setInterestIncomeDiscount(double value)
+	{
+		this.interestIncomeDiscount = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 9);
+	}
+
+	public double getInterestPayable()
+	{
+		return this.interestPayable;
+	}
+
+	public void setInterestPayable(double value)
+	{
+		this.interestPayable = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 2);
+	}
+
+	public double getInterestPayableDiscount()
+	{
+		return this.interestPayableDiscount;
+	}
+
+	public void setInterestPayableDiscount(double value)
+	{
+		this.interestPayableDiscount = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 8);
+	}
+
+	public double getInterestReceivable()
+	{
+		return this.interestReceivable;
+	}
+
+	public void setInterestReceivable(double value)
+	{
+		this.interestReceivable = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 1);
+	}
+
+	public double getInterestReceivableDiscount()
+	{
+		return this.interestReceivableDiscount;
+	}
+
+	public void setInterestReceivableDiscount(double value)
+	{
+		this.interestReceivableDiscount = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 7);
+	}
+
+	public double getInterestSold()
+	{
+		return this.interestSold;
+	}
+
+	public void setInterestSold(double value)
+	{
+		this.interestSold = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 6);
+	}
+
+	public double getLiquidityAdjustment()
+	{
+		return this.liquidityAdjustment;
+	}
+
+	public void setLiquidityAdjustment(double value)
+	{
+		this.liquidityAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 29);
+	}
+
+	public double getMarketValueLong()
+	{
+		return this.marketValueLong;
+	}
+
+	public void setMarketValueLong(double value)
+	{
+		this.marketValueLong = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 15);
+	}
+
+	public double getMarketValueShort()
+	{
+		return this.marketValueShort;
+	}
+
+	public void setMarketValueShort(double value)
+	{
+		this.marketValueShort = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 16);
+	}
+
+	public double getMarketVsHedgeAdjustment()
+	{
+		return this.marketVsHedgeAdjustment;
+	}
+
+	public void setMarketVsHedgeAdjustment(double value)
+	{
+		this.marketVsHedgeAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 36);
+	}
+
+	public double getMiscellaneousUnrealizedAdjustment()
+	{
+		return this.miscellaneousUnrealizedAdjustment;
+	}
+
+	public void setMiscellaneousUnrealizedAdjustment(double value)
+	{
+		this.miscellaneousUnrealizedAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 27);
+	}
+
+	public double getMiscellaneousUnrealizedNbAdjustment()
+	{
+		return this.miscellaneousUnrealizedNbAdjustment;
+	}
+
+	public void setMiscellaneousUnrealizedNbAdjustment(double value)
+	{
+		this.miscellaneousUnrealizedNbAdjustment = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1 << 4));
+	}
+
+	public double getModelAdjustment()
+	{
+		return this.modelAdjustment;
+	}
+
+	public void setModelAdjustment(double value)
+	{
+		this.modelAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 31);
+	}
+
+	public double getMtm()
+	{
+		return this.mtm;
+	}
+
+	public void setMtm(double value)
+	{
+		this.mtm = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1 << 1));
+	}
+
+	public double getNetCost()
+	{
+		return this.netCost;
+	}
+
+	public void setNetCost(double value)
+	{
+		this.netCost = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 61);
+	}
+
+	public double getNewBiz()
+	{
+		return this.newBiz;
+	}
+
+	public void setNewBiz(double value)
+	{
+		this.newBiz = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 40);
+	}
+
+	public double getNpvAjustment()
+	{
+		return this.npvAjustment;
+	}
+
+	public void setNpvAjustment(double value)
+	{
+		this.npvAjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 30);
+	}
+
+	public double getNpvNbAdjustment()
+	{
+		return this.npvNbAdjustment;
+	}
+
+	public void setNpvNbAdjustment(double value)
+	{
+		this.npvNbAdjustment = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1 << 5));
+	}
+
+	public double getOtherAdjustment()
+	{
+		return this.otherAdjustment;
+	}
+
+	public void setOtherAdjustment(double value)
+	{
+		this.otherAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 51);
+	}
+
+	public double getOtherAdjustmentInterest()
+	{
+		return this.otherAdjustmentInterest;
+	}
+
+	public void setOtherAdjustmentInterest(double value)
+	{
+		this.otherAdjustmentInterest = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 12);
+	}
+
+	public double getOtherPnl()
+	{
+		return this.otherPnl;
+	}
+
+	public void setOtherPnl(double value)
+	{
+		this.otherPnl = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1 << 9));
+	}
+
+	public double getOtherRealized()
+	{
+		return this.otherRealized;
+	}
+
+	public void setOtherRealized(double value)
+	{
+		this.otherRealized = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 39);
+	}
+
+	public double getOtherUnrealizedAdjustment()
+	{
+		return this.otherUnrealizedAdjustment;
+	}
+
+	public void setOtherUnrealizedAdjustment(double value)
+	{
+		this.otherUnrealizedAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 55);
+	}
+
+	public double getPaydownLtdPnl()
+	{
+		return this.paydownLtdPnl;
+	}
+
+	public void setPaydownLtdPnl(double value)
+	{
+		this.paydownLtdPnl = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1 << 8));
+	}
+
+	public double getPaydownPnl()
+	{
+		return this.paydownPnl;
+	}
+
+	public void setPaydownPnl(double value)
+	{
+		this.paydownPnl = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1 << 7));
+	}
+
+	public double getPendingAccrualRealized()
+	{
+		return this.pendingAccrualRealized;
+	}
+
+	public void setPendingAccrualRealized(double value)
+	{
+		this.pendingAccrualRealized = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 52);
+	}
+
+	public int getPositionType()
+	{
+		return this.positionType;
+	}
+
+	public void setPositionType(int value)
+	{
+		this.positionType = value;
+	}
+
+	public void setPositionTypeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getProductCurrency()
+	{
+		return this.productCurrency;
+	}
+
+	public int zGetProductCurrencyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(productCurrency);
+	}
+
+	public void setProductCurrency(String value)
+	{
+		this.productCurrency = StringPool.getInstance().getOrAddToCache(value, AggregateTrialCurrencyExposureFinder.isFullCache());
+	}
+
+	public void setProductCurrencyNull()
+	{
+		this.setProductCurrency(null);
+	}
+
+	public double getRealized()
+	{
+		return this.realized;
+	}
+
+	public void setRealized(double value)
+	{
+		this.realized = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 20);
+	}
+
+	public double getRealizedAdjustment()
+	{
+		return this.realizedAdjustment;
+	}
+
+	public void setRealizedAdjustment(double value)
+	{
+		this.realizedAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 38);
+	}
+
+	public double getReserveMarketValue()
+	{
+		return this.reserveMarketValue;
+	}
+
+	public void setReserveMarketValue(double value)
+	{
+		this.reserveMarketValue = value;
+		isNullBits1 = (short)((int)isNullBits1 & ~( 1 << 3));
+	}
+
+	public double getTradeFee()
+	{
+		return this.tradeFee;
+	}
+
+	public void setTradeFee(double value)
+	{
+		this.tradeFee = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 43);
+	}
+
+	public double getTrading()
+	{
+		return this.trading;
+	}
+
+	public void setTrading(double value)
+	{
+		this.trading = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 19);
+	}
+
+	public double getTransferTax()
+	{
+		return this.transferTax;
+	}
+
+	public void setTransferTax(double value)
+	{
+		this.transferTax = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 41);
+	}
+
+	public double getUnobsPnlAdjustment()
+	{
+		return this.unobsPnlAdjustment;
+	}
+
+	public void setUnobsPnlAdjustment(double value)
+	{
+		this.unobsPnlAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 37);
+	}
+
+	public double getUnrealized()
+	{
+		return this.unrealized;
+	}
+
+	public void setUnrealized(double value)
+	{
+		this.unrealized = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 21);
+	}
+
+	public double getUnrealizedAdjustment()
+	{
+		return this.unrealizedAdjustment;
+	}
+
+	public void setUnrealizedAdjustment(double value)
+	{
+		this.unrealizedAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 26);
+	}
+
+	public double getUnrecAdjustmentInterest()
+	{
+		return this.unrecAdjustmentInterest;
+	}
+
+	public void setUnrecAdjustmentInterest(double value)
+	{
+		this.unrecAdjustmentInterest = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 11);
+	}
+
+	public double getUnsettledPurchaseInterest()
+	{
+		return this.unsettledPurchaseInterest;
+	}
+
+	public void setUnsettledPurchaseInterest(double value)
+	{
+		this.unsettledPurchaseInterest = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 50);
+	}
+
+	public double getValuationAdjustment()
+	{
+		return this.valuationAdjustment;
+	}
+
+	public void setValuationAdjustment(double value)
+	{
+		this.valuationAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 57);
+	}
+
+	public double getWithholdingTaxAdjustment()
+	{
+		return this.withholdingTaxAdjustment;
+	}
+
+	public void setWithholdingTaxAdjustment(double value)
+	{
+		this.withholdingTaxAdjustment = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 33);
+	}
+
+	public void setDataLevelNull()
+	{
+		isNullBits0 = (isNullBits0 | 1);
+	}
+
+	public void setInterestReceivableNull()
+	{
+		setInterestReceivable((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 1);
+	}
+
+	public void setInterestPayableNull()
+	{
+		setInterestPayable((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 2);
+	}
+
+	public void setInterestIncomeNull()
+	{
+		setInterestIncome((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 3);
+	}
+
+	public void setInterestExpenseNull()
+	{
+		setInterestExpense((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 4);
+	}
+
+	public void setInterestBoughtNull()
+	{
+		setInterestBought((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 5);
+	}
+
+	public void setInterestSoldNull()
+	{
+		setInterestSold((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 6);
+	}
+
+	public void setInterestReceivableDiscountNull()
+	{
+		setInterestReceivableDiscount((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 7);
+	}
+
+	public void setInterestPayableDiscountNull()
+	{
+		setInterestPayableDiscount((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 8);
+	}
+
+	public void setInterestIncomeDiscountNull()
+	{
+		setInterestIncomeDiscount((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 9);
+	}
+
+	public void setInterestExpenseDiscountNull()
+	{
+		setInterestExpenseDiscount((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 10);
+	}
+
+	public void setUnrecAdjustmentInterestNull()
+	{
+		setUnrecAdjustmentInterest((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 11);
+	}
+
+	public void setOtherAdjustmentInterestNull()
+	{
+		setOtherAdjustmentInterest((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 12);
+	}
+
+	public void setCostLongNull()
+	{
+		setCostLong((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 13);
+	}
+
+	public void setCostShortNull()
+	{
+		setCostShort((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 14);
+	}
+
+	public void setMarketValueLongNull()
+	{
+		setMarketValueLong((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 15);
+	}
+
+	public void setMarketValueShortNull()
+	{
+		setMarketValueShort((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 16);
+	}
+
+	public void setFutureMarketValueLongNull()
+	{
+		setFutureMarketValueLong((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 17);
+	}
+
+	public void setFutureMarketValueShortNull()
+	{
+		setFutureMarketValueShort((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 18);
+	}
+
+	public void setTradingNull()
+	{
+		setTrading((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 19);
+	}
+
+	public void setRealizedNull()
+	{
+		setRealized((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 20);
+	}
+
+	public void setUnrealizedNull()
+	{
+		setUnrealized((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 21);
+	}
+
+	public void setFutureRealizedNull()
+	{
+		setFutureRealized((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 22);
+	}
+
+	public void setFutureUnrealizedNull()
+	{
+		setFutureUnrealized((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 23);
+	}
+
+	public void setCurrencyRealizedNull()
+	{
+		setCurrencyRealized((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 24);
+	}
+
+	public void setCurrencyUnrealizedNull()
+	{
+		setCurrencyUnrealized((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 25);
+	}
+
+	public void setUnrealizedAdjustmentNull()
+	{
+		setUnrealizedAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 26);
+	}
+
+	public void setMiscellaneousUnrealizedAdjustmentNull()
+	{
+		setMiscellaneousUnrealizedAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 27);
+	}
+
+	public void setCreditValuationAdjustmentNull()
+	{
+		setCreditValuationAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 28);
+	}
+
+	public void setLiquidityAdjustmentNull()
+	{
+		setLiquidityAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 29);
+	}
+
+	public void setNpvAjustmentNull()
+	{
+		setNpvAjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1 << 30);
+	}
+
+	public void setModelAdjustmentNull()
+	{
+		setModelAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 31);
+	}
+
+	public void setBidOfferAdjustmentNull()
+	{
+		setBidOfferAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 32);
+	}
+
+	public void setWithholdingTaxAdjustmentNull()
+	{
+		setWithholdingTaxAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 33);
+	}
+
+	public void setCustomerReceivableAdjustmentNull()
+	{
+		setCustomerReceivableAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 34);
+	}
+
+	public void setCustomerPayableAdjustmentNull()
+	{
+		setCustomerPayableAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 35);
+	}
+
+	public void setMarketVsHedgeAdjustmentNull()
+	{
+		setMarketVsHedgeAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 36);
+	}
+
+	public void setUnobsPnlAdjustmentNull()
+	{
+		setUnobsPnlAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 37);
+	}
+
+	public void setRealizedAdjustmentNull()
+	{
+		setRealizedAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 38);
+	}
+
+	public void setOtherRealizedNull()
+	{
+		setOtherRealized((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 39);
+	}
+
+	public void setNewBizNull()
+	{
+		setNewBiz((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 40);
+	}
+
+	public void setTransferTaxNull()
+	{
+		setTransferTax((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 41);
+	}
+
+	public void setExchangeTaxNull()
+	{
+		setExchangeTax((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 42);
+	}
+
+	public void setTradeFeeNull()
+	{
+		setTradeFee((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 43);
+	}
+
+	public void setCashDifferenceNull()
+	{
+		setCashDifference((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 44);
+	}
+
+	public void setBaseControlNull()
+	{
+		setBaseControl((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 45);
+	}
+
+	public void setCurrencyPosNull()
+	{
+		setCurrencyPos((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 46);
+	}
+
+	public void setExpensePosNull()
+	{
+		setExpensePos((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 47);
+	}
+
+	public void setFutureRealizedNdNull()
+	{
+		setFutureRealizedNd((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 48);
+	}
+
+	public void setFutureOptPremNDNull()
+	{
+		setFutureOptPremND((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 49);
+	}
+
+	public void setUnsettledPurchaseInterestNull()
+	{
+		setUnsettledPurchaseInterest((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 50);
+	}
+
+	public void setOtherAdjustmentNull()
+	{
+		setOtherAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 51);
+	}
+
+	public void setPendingAccrualRealizedNull()
+	{
+		setPendingAccrualRealized((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 52);
+	}
+
+	public void setExpenseAccrualNull()
+	{
+		setExpenseAccrual((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 53);
+	}
+
+	public void setExpensePayableNull()
+	{
+		setExpensePayable((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 54);
+	}
+
+	public void setOtherUnrealizedAdjustmentNull()
+	{
+		setOtherUnrealizedAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 55);
+	}
+
+	public void setContractNpvNull()
+	{
+		setContractNpv((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 56);
+	}
+
+	public void setValuationAdjustmentNull()
+	{
+		setValuationAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 57);
+	}
+
+	public void setFxRevaluationAdjustmentNull()
+	{
+		setFxRevaluationAdjustment((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 58);
+	}
+
+	public void setDividendAccrualLongNull()
+	{
+		setDividendAccrualLong((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 59);
+	}
+
+	public void setDividendAccrualShortNull()
+	{
+		setDividendAccrualShort((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 60);
+	}
+
+	public void setNetCostNull()
+	{
+		setNetCost((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 61);
+	}
+
+	public void setDividendPaidReceivedNull()
+	{
+		setDividendPaidReceived((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 62);
+	}
+
+	public void setFwdNewBizNull()
+	{
+		setFwdNewBiz((double)0.0);
+		isNullBits0 = (isNullBits0 | 1L << 63);
+	}
+
+	public void setFwdRollNewBizNull()
+	{
+		setFwdRollNewBiz((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1);
+	}
+
+	public void setMtmNull()
+	{
+		setMtm((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1 << 1);
+	}
+
+	public void setGmiUnrealizedNull()
+	{
+		setGmiUnrealized((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1 << 2);
+	}
+
+	public void setReserveMarketValueNull()
+	{
+		setReserveMarketValue((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1 << 3);
+	}
+
+	public void setMiscellaneousUnrealizedNbAdjustmentNull()
+	{
+		setMiscellaneousUnrealizedNbAdjustment((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1 << 4);
+	}
+
+	public void setNpvNbAdjustmentNull()
+	{
+		setNpvNbAdjustment((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1 << 5);
+	}
+
+	public void setAllocationPnlNull()
+	{
+		setAllocationPnl((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1 << 6);
+	}
+
+	public void setPaydownPnlNull()
+	{
+		setPaydownPnl((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1 << 7);
+	}
+
+	public void setPaydownLtdPnlNull()
+	{
+		setPaydownLtdPnl((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1 << 8);
+	}
+
+	public void setOtherPnlNull()
+	{
+		setOtherPnl((double)0.0);
+		isNullBits1 = (short)((int)isNullBits1 | 1 << 9);
+	}
+
+	public long zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(long newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	public short zGetIsNullBits1()
+	{
+		return this.isNullBits1;
+	}
+
+	public void zSetIsNullBits1(short newValue)
+	{
+		this.isNullBits1 = newValue;
+	}
+
+	protected void copyInto(AggregateTrialCurrencyExposureData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.isNullBits1 = this.isNullBits1;
+		copy.account9Digits = this.account9Digits;
+		copy.allocationPnl = this.allocationPnl;
+		copy.baseControl = this.baseControl;
+		copy.bidOfferAdjustment = this.bidOfferAdjustment;
+		copy.cashDifference = this.cashDifference;
+		copy.contractNpv = this.contractNpv;
+		copy.costLong = this.costLong;
+		copy.costShort = this.costShort;
+		copy.creditValuationAdjustment = this.creditValuationAdjustment;
+		copy.currency = this.currency;
+		copy.currencyPos = this.currencyPos;
+		copy.currencyRealized = this.currencyRealized;
+		copy.currencyUnrealized = this.currencyUnrealized;
+		copy.customerPayableAdjustment = this.customerPayableAdjustment;
+		copy.customerReceivableAdjustment = this.customerReceivableAdjustment;
+		copy.dataLevel = this.dataLevel;
+		copy.dividendAccrualLong = this.dividendAccrualLong;
+		copy.dividendAccrualShort = this.dividendAccrualShort;
+		copy.dividendPaidReceived = this.dividendPaidReceived;
+		copy.exchangeTax = this.exchangeTax;
+		copy.expenseAccrual = this.expenseAccrual;
+		copy.expensePayable = this.expensePayable;
+		copy.expensePos = this.expensePos;
+		copy.futureMarketValueLong = this.futureMarketValueLong;
+		copy.futureMarketValueShort = this.futureMarketValueShort;
+		copy.futureOptPremND = this.futureOptPremND;
+		copy.futureRealized = this.futureRealized;
+		copy.futureRealizedNd = this.futureRealizedNd;
+		copy.futureUnrealized = this.futureUnrealized;
+		copy.fwdNewBiz = this.fwdNewBiz;
+		copy.fwdRollNewBiz = this.fwdRollNewBiz;
+		copy.fxRevaluationAdjustment = this.fxRevaluationAdjustment;
+		copy.gmiUnrealized = this.gmiUnrealized;
+		copy.interestBought = this.interestBought;
+		copy.interestExpense = this.interestExpense;
+		copy.interestExpenseDiscount = this.interestExpenseDiscount;
+		copy.interestIncome = this.interestIncome;
+		copy.interestIncomeDiscount = this.interestIncomeDiscount;
+		copy.interestPayable = this.interestPayable;
+		copy.interestPayableDiscount = this.interestPayableDiscount;
+		copy.interestReceivable = this.interestReceivable;
+		copy.interestReceivableDiscount = this.interestReceivableDiscount;
+		copy.interestSold = this.interestSold;
+		copy.liquidityAdjustment = this.liquidityAdjustment;
+		copy.marketValueLong = this.marketValueLong;
+		copy.marketValueShort = this.marketValueShort;
+		copy.marketVsHedgeAdjustment = this.marketVsHedgeAdjustment;
+		copy.miscellaneousUnrealizedAdjustment = this.miscellaneousUnrealizedAdjustment;
+		copy.miscellaneousUnrealizedNbAdjustment = this.miscellaneousUnrealizedNbAdjustment;
+		copy.modelAdjustment = this.modelAdjustment;
+		copy.mtm = this.mtm;
+		copy.netCost = this.netCost;
+		copy.newBiz = this.newBiz;
+		copy.npvAjustment = this.npvAjustment;
+		copy.npvNbAdjustment = this.npvNbAdjustment;
+		copy.otherAdjustment = this.otherAdjustment;
+		copy.otherAdjustmentInterest = this.otherAdjustmentInterest;
+		copy.otherPnl = this.otherPnl;
+		copy.otherRealized = this.otherRealized;
+		copy.otherUnrealizedAdjustment = this.otherUnrealizedAdjustment;
+		copy.paydownLtdPnl = this.paydownLtdPnl;
+		copy.paydownPnl = this.paydownPnl;
+		copy.pendingAccrualRealized = this.pendingAccrualRealized;
+		copy.positionType = this.positionType;
+		copy.productCurrency = this.productCurrency;
+		copy.realized = this.realized;
+		copy.realizedAdjustment = this.realizedAdjustment;
+		copy.reserveMarketValue = this.reserveMarketValue;
+		copy.tradeFee = this.tradeFee;
+		copy.trading = this.trading;
+		copy.transferTax = this.transferTax;
+		copy.unobsPnlAdjustment = this.unobsPnlAdjustment;
+		copy.unrealized = this.unrealized;
+		copy.unrealizedAdjustment = this.unrealizedAdjustment;
+		copy.unrecAdjustmentInterest = this.unrecAdjustmentInterest;
+		copy.unsettledPurchaseInterest = this.unsettledPurchaseInterest;
+		copy.valuationAdjustment = this.valuationAdjustment;
+		copy.withholdingTaxAdjustment = this.withholdingTaxAdjustment;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readLong();
+		this.isNullBits1 = in.readShort();
+		this.account9Digits = in.readInt();
+		this.allocationPnl = in.readDouble();
+		this.baseControl = in.readDouble();
+		this.bidOfferAdjustment = in.readDouble();
+		this.cashDifference = in.readDouble();
+		this.contractNpv = in.readDouble();
+		this.costLong = in.readDouble();
+		this.costShort = in.readDouble();
+		this.creditValuationAdjustment = in.readDouble();
+		this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AggregateTrialCurrencyExposureFinder.isFullCache());
+		this.currencyPos = in.readDouble();
+		this.currencyRealized = in.readDouble();
+		this.currencyUnrealized = in.readDouble();
+		this.customerPayableAdjustment = in.readDouble();
+		this.customerReceivableAdjustment = in.readDouble();
+		this.dataLevel = in.readInt();
+		this.dividendAccrualLong = in.readDouble();
+		this.dividendAccrualShort = in.readDouble();
+		this.dividendPaidReceived = in.readDouble();
+		this.exchangeTax = in.readDouble();
+		this.expenseAccrual = in.readDouble();
+		this.expensePayable = in.readDouble();
+		this.expensePos = in.readDouble();
+		this.futureMarketValueLong = in.readDouble();
+		this.futureMarketValueShort = in.readDouble();
+		this.futureOptPremND = in.readDouble();
+		this.futureRealized = in.readDouble();
+		this.futureRealizedNd = in.readDouble();
+		this.futureUnrealized = in.readDouble();
+		this.fwdNewBiz = in.readDouble();
+		this.fwdRollNewBiz = in.readDouble();
+		this.fxRevaluationAdjustment = in.readDouble();
+		this.gmiUnrealized = in.readDouble();
+		this.interestBought = in.readDouble();
+		this.interestExpense = in.readDouble();
+		this.interestExpenseDiscount = in.readDouble();
+		this.interestIncome = in.readDouble();
+		this.interestIncomeDiscount = in.readDouble();
+		this.interestPayable = in.readDouble();
+		this.interestPayableDiscount = in.readDouble();
+		this.interestReceivable = in.readDouble();
+		this.interestReceivableDiscount = in.readDouble();
+		this.interestSold = in.readDouble();
+		this.liquidityAdjustment = in.readDouble();
+		this.marketValueLong = in.readDouble();
+		this.marketValueShort = in.readDouble();
+		this.marketVsHedgeAdjustment = in.readDouble();
+		this.miscellaneousUnrealizedAdjustment = in.readDouble();
+		this.miscellaneousUnrealizedNbAdjustment = in.readDouble();
+		this.modelAdjustment = in.readDouble();
+		this.mtm = in.readDouble();
+		this.netCost = in.readDouble();
+		this.newBiz = in.readDouble();
+		this.npvAjustment = in.readDouble();
+		this.npvNbAdjustment = in.readDouble();
+		this.otherAdjustment = in.readDouble();
+		this.otherAdjustmentInterest = in.readDouble();
+		this.otherPnl = in.readDouble();
+		this.otherRealized = in.readDouble();
+		this.otherUnrealizedAdjustment = in.readDouble();
+		this.paydownLtdPnl = in.readDouble();
+		this.paydownPnl = in.readDouble();
+		this.pendingAccrualRealized = in.readDouble();
+		this.positionType = in.readInt();
+		this.productCurrency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AggregateTrialCurrencyExposureFinder.isFullCache());
+		this.realized = in.readDouble();
+		this.realizedAdjustment = in.readDouble();
+		this.reserveMarketValue = in.readDouble();
+		this.tradeFee = in.readDouble();
+		this.trading = in.readDouble();
+		this.transferTax = in.readDouble();
+		this.unobsPnlAdjustment = in.readDouble();
+		this.unrealized = in.readDouble();
+		this.unrealizedAdjustment = in.readDouble();
+		this.unrecAdjustmentInterest = in.readDouble();
+		this.unsettledPurchaseInterest = in.readDouble();
+		this.valuationAdjustment = in.readDouble();
+		this.withholdingTaxAdjustment = in.readDouble();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AggregateTrialCurrencyExposureData otherData = (AggregateTrialCurrencyExposureData) other;
+		if (getAccount9Digits() != otherData.getAccount9Digits())
+		{
+			return false;
+		}
+
+		if (!isCurrencyNull() ? !getCurrency().equals(otherData.getCurrency()) : !otherData.isCurrencyNull())
+		{
+			return false;
+		}
+
+		if (getPositionType() != otherData.getPositionType())
+		{
+			return false;
+		}
+
+		if (!isProductCurrencyNull() ? !getProductCurrency().equals(otherData.getProductCurrency()) : !otherData.isProductCurrencyNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.account9Digits);
+		out.writeObject(this.currency);
+		out.writeInt(this.positionType);
+		out.writeObject(this.productCurrency);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.account9Digits = in.readInt();
+		this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AggregateTrialCurrencyExposureFinder.isFullCache());
+		this.positionType = in.readInt();
+		this.productCurrency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AggregateTrialCurrencyExposureFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AggregateTrialCurrencyExposureData aggregateTrialCurrencyExposureData = (AggregateTrialCurrencyExposureData) newData;
+		this.setAllocationPnl(aggregateTrialCurrencyExposureData.getAllocationPnl());
+		if (aggregateTrialCurrencyExposureData.isAllocationPnlNull()) this.setAllocationPnlNull();
+		this.setBaseControl(aggregateTrialCurrencyExposureData.getBaseControl());
+		if (aggregateTrialCurrencyExposureData.isBaseControlNull()) this.setBaseControlNull();
+		this.setBidOfferAdjustment(aggregateTrialCurrencyExposureData.getBidOfferAdjustment());
+		if (aggregateTrialCurrencyExposureData.isBidOfferAdjustmentNull()) this.setBidOfferAdjustmentNull();
+		this.setCashDifference(aggregateTrialCurrencyExposureData.getCashDifference());
+		if (aggregateTrialCurrencyExposureData.isCashDifferenceNull()) this.setCashDifferenceNull();
+		this.setContractNpv(aggregateTrialCurrencyExposureData.getContractNpv());
+		if (aggregateTrialCurrencyExposureData.isContractNpvNull()) this.setContractNpvNull();
+		this.setCostLong(aggregateTrialCurrencyExposureData.getCostLong());
+		if (aggregateTrialCurrencyExposureData.isCostLongNull()) this.setCostLongNull();
+		this.setCostShort(aggregateTrialCurrencyExposureData.getCostShort());
+		if (aggregateTrialCurrencyExposureData.isCostShortNull()) this.setCostShortNull();
+		this.setCreditValuationAdjustment(aggregateTrialCurrencyExposureData.getCreditValuationAdjustment());
+		if (aggregateTrialCurrencyExposureData.isCreditValuationAdjustmentNull()) this.setCreditValuationAdjustmentNull();
+		this.setCurrencyPos(aggregateTrialCurrencyExposureData.getCurrencyPos());
+		if (aggregateTrialCurrencyExposureData.isCurrencyPosNull()) this.setCurrencyPosNull();
+		this.setCurrencyRealized(aggregateTrialCurrencyExposureData.getCurrencyRealized());
+		if (aggregateTrialCurrencyExposureData.isCurrencyRealizedNull()) this.setCurrencyRealizedNull();
+		this.setCurrencyUnrealized(aggregateTrialCurrencyExposureData.getCurrencyUnrealized());
+		if (aggregateTrialCurrencyExposureData.isCurrencyUnrealizedNull()) this.setCurrencyUnrealizedNull();
+		this.setCustomerPayableAdjustment(aggregateTrialCurrencyExposureData.getCustomerPayableAdjustment());
+		if (aggregateTrialCurrencyExposureData.isCustomerPayableAdjustmentNull()) this.setCustomerPayableAdjustmentNull();
+		this.setCustomerReceivableAdjustment(aggregateTrialCurrencyExposureData.getCustomerReceivableAdjustment());
+		if (aggregateTrialCurrencyExposureData.isCustomerReceivableAdjustmentNull()) this.setCustomerReceivableAdjustmentNull();
+		this.setDataLevel(aggregateTrialCurrencyExposureData.getDataLevel());
+		if (aggregateTrialCurrencyExposureData.isDataLevelNull()) this.setDataLevelNull();
+		this.setDividendAccrualLong(aggregateTrialCurrencyExposureData.getDividendAccrualLong());
+		if (aggregateTrialCurrencyExposureData.isDividendAccrualLongNull()) this.setDividendAccrualLongNull();
+		this.setDividendAccrualShort(aggregateTrialCurrencyExposureData.getDividendAccrualShort());
+		if (aggregateTrialCurrencyExposureData.isDividendAccrualShortNull()) this.setDividendAccrualShortNull();
+		this.setDividendPaidReceived(aggregateTrialCurrencyExposureData.getDividendPaidReceived());
+		if (aggregateTrialCurrencyExposureData.isDividendPaidReceivedNull()) this.setDividendPaidReceivedNull();
+		this.setExchangeTax(aggregateTrialCurrencyExposureData.getExchangeTax());
+		if (aggregateTrialCurrencyExposureData.isExchangeTaxNull()) this.setExchangeTaxNull();
+		this.setExpenseAccrual(aggregateTrialCurrencyExposureData.getExpenseAccrual());
+		if (aggregateTrialCurrencyExposureData.isExpenseAccrualNull()) this.setExpenseAccrualNull();
+		this.setExpensePayable(aggregateTrialCurrencyExposureData.getExpensePayable());
+		if (aggregateTrialCurrencyExposureData.isExpensePayableNull()) this.setExpensePayableNull();
+		this.setExpensePos(aggregateTrialCurrencyExposureData.getExpensePos());
+		if (aggregateTrialCurrencyExposureData.isExpensePosNull()) this.setExpensePosNull();
+		this.setFutureMarketValueLong(aggregateTrialCurrencyExposureData.getFutureMarketValueLong());
+		if (aggregateTrialCurrencyExposureData.isFutureMarketValueLongNull()) this.setFutureMarketValueLongNull();
+		this.setFutureMarketValueShort(aggregateTrialCurrencyExposureData.getFutureMarketValueShort());
+		if (aggregateTrialCurrencyExposureData.isFutureMarketValueShortNull()) this.setFutureMarketValueShortNull();
+		this.setFutureOptPremND(aggregateTrialCurrencyExposureData.getFutureOptPremND());
+		if (aggregateTrialCurrencyExposureData.isFutureOptPremNDNull()) this.setFutureOptPremNDNull();
+		this.setFutureRealized(aggregateTrialCurrencyExposureData.getFutureRealized());
+		if (aggregateTrialCurrencyExposureData.isFutureRealizedNull()) this.setFutureRealizedNull();
+		this.setFutureRealizedNd(aggregateTrialCurrencyExposureData.getFutureRealizedNd());
+		if (aggregateTrialCurrencyExposureData.isFutureRealizedNdNull()) this.setFutureRealizedNdNull();
+		this.setFutureUnrealized(aggregateTrialCurrencyExposureData.getFutureUnrealized());
+		if (aggregateTrialCurrencyExposureData.isFutureUnrealizedNull()) this.setFutureUnrealizedNull();
+		this.setFwdNewBiz(aggregateTrialCurrencyExposureData.getFwdNewBiz());
+		if (aggregateTrialCurrencyExposureData.isFwdNewBizNull()) this.setFwdNewBizNull();
+		this.setFwdRollNewBiz(aggregateTrialCurrencyExposureData.getFwdRollNewBiz());
+		if (aggregateTrialCurrencyExposureData.isFwdRollNewBizNull()) this.setFwdRollNewBizNull();
+		this.setFxRevaluationAdjustment(aggregateTrialCurrencyExposureData.getFxRevaluationAdjustment());
+		if (aggregateTrialCurrencyExposureData.isFxRevaluationAdjustmentNull()) this.setFxRevaluationAdjustmentNull();
+		this.setGmiUnrealized(aggregateTrialCurrencyExposureData.getGmiUnrealized());
+		if (aggregateTrialCurrencyExposureData.isGmiUnrealizedNull()) this.setGmiUnrealizedNull();
+		this.setInterestBought(aggregateTrialCurrencyExposureData.getInterestBought());
+		if (aggregateTrialCurrencyExposureData.isInterestBoughtNull()) this.setInterestBoughtNull();
+		this.setInterestExpense(aggregateTrialCurrencyExposureData.getInterestExpense());
+		if (aggregateTrialCurrencyExposureData.isInterestExpenseNull()) this.setInterestExpenseNull();
+		this.setInterestExpenseDiscount(aggregateTrialCurrencyExposureData.getInterestExpenseDiscount());
+		if (aggregateTrialCurrencyExposureData.isInterestExpenseDiscountNull()) this.setInterestExpenseDiscountNull();
+		this.setInterestIncome(aggregateTrialCurrencyExposureData.getInterestIncome());
+		if (aggregateTrialCurrencyExposureData.isInterestIncomeNull()) this.setInterestIncomeNull();
+		this.setInterestIncomeDiscount(aggregateTrialCurrencyExposureData.getInterestIncomeDiscount());
+		if (aggregateTrialCurrencyExposureData.isInterestIncomeDiscountNull()) this.setInterestIncomeDiscountNull();
+		this.setInterestPayable(aggregateTrialCurrencyExposureData.getInterestPayable());
+		if (aggregateTrialCurrencyExposureData.isInterestPayableNull()) this.setInterestPayableNull();
+		this.setInterestPayableDiscount(aggregateTrialCurrencyExposureData.getInterestPayableDiscount());
+		if (aggregateTrialCurrencyExposureData.isInterestPayableDiscountNull()) this.setInterestPayableDiscountNull();
+		this.setInterestReceivable(aggregateTrialCurrencyExposureData.getInterestReceivable());
+		if (aggregateTrialCurrencyExposureData.isInterestReceivableNull()) this.setInterestReceivableNull();
+		this.setInterestReceivableDiscount(aggregateTrialCurrencyExposureData.getInterestReceivableDiscount());
+		if (aggregateTrialCurrencyExposureData.isInterestReceivableDiscountNull()) this.setInterestReceivableDiscountNull();
+		this.setInterestSold(aggregateTrialCurrencyExposureData.getInterestSold());
+		if (aggregateTrialCurrencyExposureData.isInterestSoldNull()) this.setInterestSoldNull();
+		this.setLiquidityAdjustment(aggregateTrialCurrencyExposureData.getLiquidityAdjustment());
+		if (aggregateTrialCurrencyExposureData.isLiquidityAdjustmentNull()) this.setLiquidityAdjustmentNull();
+		this.setMarketValueLong(aggregateTrialCurrencyExposureData.getMarketValueLong());
+		if (aggregateTrialCurrencyExposureData.isMarketValueLongNull()) this.setMarketValueLongNull();
+		this.setMarketValueShort(aggregateTrialCurrencyExposureData.getMarketValueShort());
+		if (aggregateTrialCurrencyExposureData.isMarketValueShortNull()) this.setMarketValueShortNull();
+		this.setMarketVsHedgeAdjustment(aggregateTrialCurrencyExposureData.getMarketVsHedgeAdjustment());
+		if (aggregateTrialCurrencyExposureData.isMarketVsHedgeAdjustmentNull()) this.setMarketVsHedgeAdjustmentNull();
+		this.setMiscellaneousUnrealizedAdjustment(aggregateTrialCurrencyExposureData.getMiscellaneousUnrealizedAdjustment());
+		if (aggregateTrialCurrencyExposureData.isMiscellaneousUnrealizedAdjustmentNull()) this.setMiscellaneousUnrealizedAdjustmentNull();
+		this.setMiscellaneousUnrealizedNbAdjustment(aggregateTrialCurrencyExposureData.getMiscellaneousUnrealizedNbAdjustment());
+		if (aggregateTrialCurrencyExposureData.isMiscellaneousUnrealizedNbAdjustmentNull()) this.setMiscellaneousUnrealizedNbAdjustmentNull();
+		this.setModelAdjustment(aggregateTrialCurrencyExposureData.getModelAdjustment());
+		if (aggregateTrialCurrencyExposureData.isModelAdjustmentNull()) this.setModelAdjustmentNull();
+		this.setMtm(aggregateTrialCurrencyExposureData.getMtm());
+		if (aggregateTrialCurrencyExposureData.isMtmNull()) this.setMtmNull();
+		this.setNetCost(aggregateTrialCurrencyExposureData.getNetCost());
+		if (aggregateTrialCurrencyExposureData.isNetCostNull()) this.setNetCostNull();
+		this.setNewBiz(aggregateTrialCurrencyExposureData.getNewBiz());
+		if (aggregateTrialCurrencyExposureData.isNewBizNull()) this.setNewBizNull();
+		this.setNpvAjustment(aggregateTrialCurrencyExposureData.getNpvAjustment());
+		if (aggregateTrialCurrencyExposureData.isNpvAjustmentNull()) this.setNpvAjustmentNull();
+		this.setNpvNbAdjustment(aggregateTrialCurrencyExposureData.getNpvNbAdjustment());
+		if (aggregateTrialCurrencyExposureData.isNpvNbAdjustmentNull()) this.setNpvNbAdjustmentNull();
+		this.setOtherAdjustment(aggregateTrialCurrencyExposureData.getOtherAdjustment());
+		if (aggregateTrialCurrencyExposureData.isOtherAdjustmentNull()) this.setOtherAdjustmentNull();
+		this.setOtherAdjustmentInterest(aggregateTrialCurrencyExposureData.getOtherAdjustmentInterest());
+		if (aggregateTrialCurrencyExposureData.isOtherAdjustmentInterestNull()) this.setOtherAdjustmentInterestNull();
+		this.setOtherPnl(aggregateTrialCurrencyExposureData.getOtherPnl());
+		if (aggregateTrialCurrencyExposureData.isOtherPnlNull()) this.setOtherPnlNull();
+		this.setOtherRealized(aggregateTrialCurrencyExposureData.getOtherRealized());
+		if (aggregateTrialCurrencyExposureData.isOtherRealizedNull()) this.setOtherRealizedNull();
+		this.setOtherUnrealizedAdjustment(aggregateTrialCurrencyExposureData.getOtherUnrealizedAdjustment());
+		if (aggregateTrialCurrencyExposureData.isOtherUnrealizedAdjustmentNull()) this.setOtherUnrealizedAdjustmentNull();
+		this.setPaydownLtdPnl(aggregateTrialCurrencyExposureData.getPaydownLtdPnl());
+		if (aggregateTrialCurrencyExposureData.isPaydownLtdPnlNull()) this.setPaydownLtdPnlNull();
+		this.setPaydownPnl(aggregateTrialCurrencyExposureData.getPaydownPnl());
+		if (aggregateTrialCurrencyExposureData.isPaydownPnlNull()) this.setPaydownPnlNull();
+		this.setPendingAccrualRealized(aggregateTrialCurrencyExposureData.getPendingAccrualRealized());
+		if (aggregateTrialCurrencyExposureData.isPendingAccrualRealizedNull()) this.setPendingAccrualRealizedNull();
+		this.setRealized(aggregateTrialCurrencyExposureData.getRealized());
+		if (aggregateTrialCurrencyExposureData.isRealizedNull()) this.setRealizedNull();
+		this.setRealizedAdjustment(aggregateTrialCurrencyExposureData.getRealizedAdjustment());
+		if (aggregateTrialCurrencyExposureData.isRealizedAdjustmentNull()) this.setRealizedAdjustmentNull();
+		this.setReserveMarketValue(aggregateTrialCurrencyExposureData.getReserveMarketValue());
+		if (aggregateTrialCurrencyExposureData.isReserveMarketValueNull()) this.setReserveMarketValueNull();
+		this.setTradeFee(aggregateTrialCurrencyExposureData.getTradeFee());
+		if (aggregateTrialCurrencyExposureData.isTradeFeeNull()) this.setTradeFeeNull();
+		this.setTrading(aggregateTrialCurrencyExposureData.getTrading());
+		if (aggregateTrialCurrencyExposureData.isTradingNull()) this.setTradingNull();
+		this.setTransferTax(aggregateTrialCurrencyExposureData.getTransferTax());
+		if (aggregateTrialCurrencyExposureData.isTransferTaxNull()) this.setTransferTaxNull();
+		this.setUnobsPnlAdjustment(aggregateTrialCurrencyExposureData.getUnobsPnlAdjustment());
+		if (aggregateTrialCurrencyExposureData.isUnobsPnlAdjustmentNull()) this.setUnobsPnlAdjustmentNull();
+		this.setUnrealized(aggregateTrialCurrencyExposureData.getUnrealized());
+		if (aggregateTrialCurrencyExposureData.isUnrealizedNull()) this.setUnrealizedNull();
+		this.setUnrealizedAdjustment(aggregateTrialCurrencyExposureData.getUnrealizedAdjustment());
+		if (aggregateTrialCurrencyExposureData.isUnrealizedAdjustmentNull()) this.setUnrealizedAdjustmentNull();
+		this.setUnrecAdjustmentInterest(aggregateTrialCurrencyExposureData.getUnrecAdjustmentInterest());
+		if (aggregateTrialCurrencyExposureData.isUnrecAdjustmentInterestNull()) this.setUnrecAdjustmentInterestNull();
+		this.setUnsettledPurchaseInterest(aggregateTrialCurrencyExposureData.getUnsettledPurchaseInterest());
+		if (aggregateTrialCurrencyExposureData.isUnsettledPurchaseInterestNull()) this.setUnsettledPurchaseInterestNull();
+		this.setValuationAdjustment(aggregateTrialCurrencyExposureData.getValuationAdjustment());
+		if (aggregateTrialCurrencyExposureData.isValuationAdjustmentNull()) this.setValuationAdjustmentNull();
+		this.setWithholdingTaxAdjustment(aggregateTrialCurrencyExposureData.getWithholdingTaxAdjustment());
+		if (aggregateTrialCurrencyExposureData.isWithholdingTaxAdjustmentNull()) this.setWithholdingTaxAdjustmentNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AggregateTrialCurrencyExposureData other = (AggregateTrialCurrencyExposureData) newData;
+		if ( isAllocationPnlNull() != other.isAllocationPnlNull() || Math.abs(getAllocationPnl() - other.getAllocationPnl()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isBaseControlNull() != other.isBaseControlNull() || Math.abs(getBaseControl() - other.getBaseControl()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isBidOfferAdjustmentNull() != other.isBidOfferAdjustmentNull() || Math.abs(getBidOfferAdjustment() - other.getBidOfferAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isCashDifferenceNull() != other.isCashDifferenceNull() || Math.abs(getCashDifference() - other.getCashDifference()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isContractNpvNull() != other.isContractNpvNull() || Math.abs(getContractNpv() - other.getContractNpv()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isCostLongNull() != other.isCostLongNull() || Math.abs(getCostLong() - other.getCostLong()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isCostShortNull() != other.isCostShortNull() || Math.abs(getCostShort() - other.getCostShort()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isCreditValuationAdjustmentNull() != other.isCreditValuationAdjustmentNull() || Math.abs(getCreditValuationAdjustment() - other.getCreditValuationAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isCurrencyPosNull() != other.isCurrencyPosNull() || Math.abs(getCurrencyPos() - other.getCurrencyPos()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isCurrencyRealizedNull() != other.isCurrencyRealizedNull() || Math.abs(getCurrencyRealized() - other.getCurrencyRealized()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isCurrencyUnrealizedNull() != other.isCurrencyUnrealizedNull() || Math.abs(getCurrencyUnrealized() - other.getCurrencyUnrealized()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isCustomerPayableAdjustmentNull() != other.isCustomerPayableAdjustmentNull() || Math.abs(getCustomerPayableAdjustment() - other.getCustomerPayableAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isCustomerReceivableAdjustmentNull() != other.isCustomerReceivableAdjustmentNull() || Math.abs(getCustomerReceivableAdjustment() - other.getCustomerReceivableAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isDataLevelNull() != other.isDataLevelNull() || getDataLevel() != other.getDataLevel())
+		{
+			return true;
+		}
+
+		if ( isDividendAccrualLongNull() != other.isDividendAccrualLongNull() || Math.abs(getDividendAccrualLong() - other.getDividendAccrualLong()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isDividendAccrualShortNull() != other.isDividendAccrualShortNull() || Math.abs(getDividendAccrualShort() - other.getDividendAccrualShort()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isDividendPaidReceivedNull() != other.isDividendPaidReceivedNull() || Math.abs(getDividendPaidReceived() - other.getDividendPaidReceived()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isExchangeTaxNull() != other.isExchangeTaxNull() || Math.abs(getExchangeTax() - other.getExchangeTax()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isExpenseAccrualNull() != other.isExpenseAccrualNull() || Math.abs(getExpenseAccrual() - other.getExpenseAccrual()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isExpensePayableNull() != other.isExpensePayableNull() || Math.abs(getExpensePayable() - other.getExpensePayable()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isExpensePosNull() != other.isExpensePosNull() || Math.abs(getExpensePos() - other.getExpensePos()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFutureMarketValueLongNull() != other.isFutureMarketValueLongNull() || Math.abs(getFutureMarketValueLong() - other.getFutureMarketValueLong()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFutureMarketValueShortNull() != other.isFutureMarketValueShortNull() || Math.abs(getFutureMarketValueShort() - other.getFutureMarketValueShort()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFutureOptPremNDNull() != other.isFutureOptPremNDNull() || Math.abs(getFutureOptPremND() - other.getFutureOptPremND()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFutureRealizedNull() != other.isFutureRealizedNull() || Math.abs(getFutureRealized() - other.getFutureRealized()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFutureRealizedNdNull() != other.isFutureRealizedNdNull() || Math.abs(getFutureRealizedNd() - other.getFutureRealizedNd()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFutureUnrealizedNull() != other.isFutureUnrealizedNull() || Math.abs(getFutureUnrealized() - other.getFutureUnrealized()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFwdNewBizNull() != other.isFwdNewBizNull() || Math.abs(getFwdNewBiz() - other.getFwdNewBiz()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFwdRollNewBizNull() != other.isFwdRollNewBizNull() || Math.abs(getFwdRollNewBiz() - other.getFwdRollNewBiz()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFxRevaluationAdjustmentNull() != other.isFxRevaluationAdjustmentNull() || Math.abs(getFxRevaluationAdjustment() - other.getFxRevaluationAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isGmiUnrealizedNull() != other.isGmiUnrealizedNull() || Math.abs(getGmiUnrealized() - other.getGmiUnrealized()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestBoughtNull() != other.isInterestBoughtNull() || Math.abs(getInterestBought() - other.getInterestBought()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestExpenseNull() != other.isInterestExpenseNull() || Math.abs(getInterestExpense() - other.getInterestExpense()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestExpenseDiscountNull() != other.isInterestExpenseDiscountNull() || Math.abs(getInterestExpenseDiscount() - other.getInterestExpenseDiscount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestIncomeNull() != other.isInterestIncomeNull() || Math.abs(getInterestIncome() - other.getInterestIncome()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestIncomeDiscountNull() != other.isInterestIncomeDiscountNull() || Math.abs(getInterestIncomeDiscount() - other.getInterestIncomeDiscount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestPayableNull() != other.isInterestPayableNull() || Math.abs(getInterestPayable() - other.getInterestPayable()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestPayableDiscountNull() != other.isInterestPayableDiscountNull() || Math.abs(getInterestPayableDiscount() - other.getInterestPayableDiscount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestReceivableNull() != other.isInterestReceivableNull() || Math.abs(getInterestReceivable() - other.getInterestReceivable()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestReceivableDiscountNull() != other.isInterestReceivableDiscountNull() || Math.abs(getInterestReceivableDiscount() - other.getInterestReceivableDiscount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isInterestSoldNull() != other.isInterestSoldNull() || Math.abs(getInterestSold() - other.getInterestSold()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isLiquidityAdjustmentNull() != other.isLiquidityAdjustmentNull() || Math.abs(getLiquidityAdjustment() - other.getLiquidityAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isMarketValueLongNull() != other.isMarketValueLongNull() || Math.abs(getMarketValueLong() - other.getMarketValueLong()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isMarketValueShortNull() != other.isMarketValueShortNull() || Math.abs(getMarketValueShort() - other.getMarketValueShort()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isMarketVsHedgeAdjustmentNull() != other.isMarketVsHedgeAdjustmentNull() || Math.abs(getMarketVsHedgeAdjustment() - other.getMarketVsHedgeAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isMiscellaneousUnrealizedAdjustmentNull() != other.isMiscellaneousUnrealizedAdjustmentNull() || Math.abs(getMiscellaneousUnrealizedAdjustment() - other.getMiscellaneousUnrealizedAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isMiscellaneousUnrealizedNbAdjustmentNull() != other.isMiscellaneousUnrealizedNbAdjustmentNull() || Math.abs(getMiscellaneousUnrealizedNbAdjustment() - other.getMiscellaneousUnrealizedNbAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isModelAdjustmentNull() != other.isModelAdjustmentNull() || Math.abs(getModelAdjustment() - other.getModelAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isMtmNull() != other.isMtmNull() || Math.abs(getMtm() - other.getMtm()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNetCostNull() != other.isNetCostNull() || Math.abs(getNetCost() - other.getNetCost()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNewBizNull() != other.isNewBizNull() || Math.abs(getNewBiz() - other.getNewBiz()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNpvAjustmentNull() != other.isNpvAjustmentNull() || Math.abs(getNpvAjustment() - other.getNpvAjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNpvNbAdjustmentNull() != other.isNpvNbAdjustmentNull() || Math.abs(getNpvNbAdjustment() - other.getNpvNbAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isOtherAdjustmentNull() != other.isOtherAdjustmentNull() || Math.abs(getOtherAdjustment() - other.getOtherAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isOtherAdjustmentInterestNull() != other.isOtherAdjustmentInterestNull() || Math.abs(getOtherAdjustmentInterest() - other.getOtherAdjustmentInterest()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isOtherPnlNull() != other.isOtherPnlNull() || Math.abs(getOtherPnl() - other.getOtherPnl()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isOtherRealizedNull() != other.isOtherRealizedNull() || Math.abs(getOtherRealized() - other.getOtherRealized()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isOtherUnrealizedAdjustmentNull() != other.isOtherUnrealizedAdjustmentNull() || Math.abs(getOtherUnrealizedAdjustment() - other.getOtherUnrealizedAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isPaydownLtdPnlNull() != other.isPaydownLtdPnlNull() || Math.abs(getPaydownLtdPnl() - other.getPaydownLtdPnl()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isPaydownPnlNull() != other.isPaydownPnlNull() || Math.abs(getPaydownPnl() - other.getPaydownPnl()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isPendingAccrualRealizedNull() != other.isPendingAccrualRealizedNull() || Math.abs(getPendingAccrualRealized() - other.getPendingAccrualRealized()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRealizedNull() != other.isRealizedNull() || Math.abs(getRealized() - other.getRealized()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRealizedAdjustmentNull() != other.isRealizedAdjustmentNull() || Math.abs(getRealizedAdjustment() - other.getRealizedAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isReserveMarketValueNull() != other.isReserveMarketValueNull() || Math.abs(getReserveMarketValue() - other.getReserveMarketValue()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTradeFeeNull() != other.isTradeFeeNull() || Math.abs(getTradeFee() - other.getTradeFee()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTradingNull() != other.isTradingNull() || Math.abs(getTrading() - other.getTrading()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTransferTaxNull() != other.isTransferTaxNull() || Math.abs(getTransferTax() - other.getTransferTax()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isUnobsPnlAdjustmentNull() != other.isUnobsPnlAdjustmentNull() || Math.abs(getUnobsPnlAdjustment() - other.getUnobsPnlAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isUnrealizedNull() != other.isUnrealizedNull() || Math.abs(getUnrealized() - other.getUnrealized()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isUnrealizedAdjustmentNull() != other.isUnrealizedAdjustmentNull() || Math.abs(getUnrealizedAdjustment() - other.getUnrealizedAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isUnrecAdjustmentInterestNull() != other.isUnrecAdjustmentInterestNull() || Math.abs(getUnrecAdjustmentInterest() - other.getUnrecAdjustmentInterest()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isUnsettledPurchaseInterestNull() != other.isUnsettledPurchaseInterestNull() || Math.abs(getUnsettledPurchaseInterest() - other.getUnsettledPurchaseInterest()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isValuationAdjustmentNull() != other.isValuationAdjustmentNull() || Math.abs(getValuationAdjustment() - other.getValuationAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isWithholdingTaxAdjustmentNull() != other.isWithholdingTaxAdjustmentNull() || Math.abs(getWithholdingTaxAdjustment() - other.getWithholdingTaxAdjustment()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AggregateTrialCurrencyExposureData copy = new AggregateTrialCurrencyExposureData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AggregateTrialCurrencyExposureData copy = new AggregateTrialCurrencyExposureData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "account9Digits: "+(""+getAccount9Digits())+ " / ";
+		result += "currency: "+"'"+getCurrency()+"'"+ " / ";
+		result += "positionType: "+(""+getPositionType())+ " / ";
+		result += "productCurrency: "+"'"+getProductCurrency()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.desk.aggregate.AggregateTrialCurrencyExposureData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AggregateTrialCurrencyExposureFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AggregateTrialCurrencyExposureFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.desk.aggregate.AggregateTrialCurrencyExposureData";
+	}
+}
@@ -0,0 +1,1621 @@
+package com.gs.fw.common.mithra.test.desk.aggregate;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AggregateTrialCurrencyExposureDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "VIEW_I,INT_REC_M,INT_PAY_M,INT_INC_M,INT_EXP_M,INT_BOUGHT_M,INT_SOLD_M,INT_REC_DISC_M,INT_PAY_DISC_M,INT_INC_DISC_M,INT_EXP_DISC_M,ADJ_INT_UNREC_M,ADJ_INT_OTHER_M,COST_LG_M,COST_ST_M,MKT_VAL_LG_M,MKT_VAL_ST_M,FUT_MKT_VAL_LG_M,FUT_MKT_VAL_ST_M,ECONOMIC_M,REALIZED_M,UNREALIZED_M,FUT_RLZD_M,FUT_UNRLZD_M,CURR_RLZD_M,CURR_UNRLZD_M,UNREALIZED_ADJ_M,UNREAL_MISC_ADJ_M,CRED_VAL_ADJ_M,LIQUIDITY_ADJ_M,NPV_ADJ_M,MODEL_ADJ_M,BIDOFFER_ADJ_M,WITHOLDINGTAX_ADJ_M,CUSTRECV_ADJ_M,CUSTPAY_ADJ_M,MARKVSHEDGE_ADJ_M,UNOBSPNL_ADJ_M,REALIZED_ADJ_M,OTHER_RLZD_M,NEW_BIZ_M,TRANSFER_TAX_M,EXCHANGE_TAX_M,TRADE_FEE_M,CASH_DIFF_M,BASE_CONTROL_M,CURR_POS_M,EXPENSE_POS_M,FUT_REAL_ND_M,FUT_OPTPREM_ND_M,UNSETL_PURCH_INT_M,OTHER_ADJ_M,PND_ACC_REAL_M,EXP_ACC_M,EXP_PAY_M,OTHER_UNRLZD_ADJ_M,CONTRACT_NPV_M,VAL_ADJ_M,FX_REVAL_ADJ_M,DIV_ACC_LG_M,DIV_ACC_ST_M,NET_COST_M,DIV_PAID_RCVD_M,FWD_NEW_BIZ_M,FWD_ROLL_NEW_BIZ_M,MTM_M,GMI_UNRLZD_M,RES_MKT_VAL_M,UNREAL_MISC_NB_ADJ_M,NPV_NB_ADJ_M,ALLOC_PNL_M,PAYDWN_M,PAYDWN_LTD_M,OTHR_PNL_M";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.VIEW_I,t0.INT_REC_M,t0.INT_PAY_M,t0.INT_INC_M,t0.INT_EXP_M,t0.INT_BOUGHT_M,t0.INT_SOLD_M,t0.INT_REC_DISC_M,t0.INT_PAY_DISC_M,t0.INT_INC_DISC_M,t0.INT_EXP_DISC_M,t0.ADJ_INT_UNREC_M,t0.ADJ_INT_OTHER_M,t0.COST_LG_M,t0.COST_ST_M,t0.MKT_VAL_LG_M,t0.MKT_VAL_ST_M,t0.FUT_MKT_VAL_LG_M,t0.FUT_MKT_VAL_ST_M,t0.ECONOMIC_M,t0.REALIZED_M,t0.UNREALIZED_M,t0.FUT_RLZD_M,t0.FUT_UNRLZD_M,t0.CURR_RLZD_M,t0.CURR_UNRLZD_M,t0.UNREALIZED_ADJ_M,t0.UNREAL_MISC_ADJ_M,t0.CRED_VAL_ADJ_M,t0.LIQUIDITY_ADJ_M,t0.NPV_ADJ_M,t0.MODEL_ADJ_M,t0.BIDOFFER_ADJ_M,t0.WITHOLDINGTAX_ADJ_M,t0.CUSTRECV_ADJ_M,t0.CUSTPAY_ADJ_M,t0.MARKVSHEDGE_ADJ_M,t0.UNOBSPNL_ADJ_M,t0.REALIZED_ADJ_M,t0.OTHER_RLZD_M,t0.NEW_BIZ_M,t0.TRANSFER_TAX_M,t0.EXCHANGE_TAX_M,t0.TRADE_FEE_M,t0.CASH_DIFF_M,t0.BASE_CONTROL_M,t0.CURR_POS_M,t0.EXPENSE_POS_M,t0.FUT_REAL_ND_M,t0.FUT_OPTPREM_ND_M,t0.UNSETL_PURCH_INT_M,t0.OTHER_ADJ_M,t0.PND_ACC_REAL_M,t0.EXP_ACC_M,t0.EXP_PAY_M,t0.OTHER_UNRLZD_ADJ_M,t0.CONTRACT_NPV_M,t0.VAL_ADJ_M,t0.FX_REVAL_ADJ_M,t0.DIV_ACC_LG_M,t0.DIV_ACC_ST_M,t0.NET_COST_M,t0.DIV_PAID_RCVD_M,t0.FWD_NEW_BIZ_M,t0.FWD_ROLL_NEW_BIZ_M,t0.MTM_M,t0.GMI_UNRLZD_M,t0.RES_MKT_VAL_M,t0.UNREAL_MISC_NB_ADJ_M,t0.NPV_NB_ADJ_M,t0.ALLOC_PNL_M,t0.PAYDWN_M,t0.PAYDWN_LTD_M,t0.OTHR_PNL_M";
+	private static final String PK_WITH_ALIAS = "t0.GROUP_I = ? AND t0.POS_TYP_C = ? AND t0.DENOM_CURR_C = ? AND t0.PROD_CURR_C = ?";
+	private static final String PK_INDEX_COLS = "GROUP_I,POS_TYP_C,DENOM_CURR_C,PROD_CURR_C";
+	protected AggregateTrialCurrencyExposureDatabaseObjectAbstract()
+	{
+		super("AggregateTrialCurrencyExposure", "com.gs.fw.common.mithra.test.desk.aggregate.AggregateTrialCurrencyExposureFinder",
+			78, 78,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AggregateTrialCurrencyExposureFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AggregateTrialCurrencyExposureFinder.getFinderInstance();
+	}
+
+	public static AggregateTrialCurrencyExposureData allocateOnHeapData()
+	{
+		return new AggregateTrialCurrencyExposureData();
+	}
+
+	public static AggregateTrialCurrencyExposureData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AggregateTrialCurrencyExposureData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AggregateTrialCurrencyExposureData data = new AggregateTrialCurrencyExposureData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(AggregateTrialCurrencyExposureFinder.getPrimaryKeyAttributes(), this, AggregateTrialCurrencyExposureFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(AggregateTrialCurrencyExposureFinder.getPrimaryKeyAttributes(), this, AggregateTrialCurrencyExposureFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(AggregateTrialCurrencyExposureFinder.getPrimaryKeyAttributes(), this, AggregateTrialCurrencyExposureFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(AggregateTrialCurrencyExposureFinder.getPrimaryKeyAttributes(), this, AggregateTrialCurrencyExposureFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AggregateTrialCurrencyExposureFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AggregateTrialCurrencyExposureFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AggregateTrialCurrencyExposure.zConfigFullTx();
+		}
+		else
+		{
+			AggregateTrialCurrencyExposure.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAggregateTrialCurrencyExposureData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAggregateTrialCurrencyExposureData(1, (AggregateTrialCurrencyExposureData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAggregateTrialCurrencyExposurePkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAggregateTrialCurrencyExposureTableName();
+	}
+
+	public String getAggregateTrialCurrencyExposureTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAccount9Digits());
+		stm.setInt(pos++, data.getPositionType());
+		stm.setString(pos++, data.getCurrency());
+		stm.setString(pos++, data.getProductCurrency());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "GROUP_I = ? AND POS_TYP_C = ? AND DENOM_CURR_C = ? AND PROD_CURR_C = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.GROUP_I,t0.POS_TYP_C,t0.DENOM_CURR_C,t0.PROD_CURR_C,t0.VIEW_I,t0.INT_REC_M,t0.INT_PAY_M,t0.INT_INC_M,t0.INT_EXP_M,t0.INT_BOUGHT_M,t0.INT_SOLD_M,t0.INT_REC_DISC_M,t0.INT_PAY_DISC_M,t0.INT_INC_DISC_M,t0.INT_EXP_DISC_M,t0.ADJ_INT_UNREC_M,t0.ADJ_INT_OTHER_M,t0.COST_LG_M,t0.COST_ST_M,t0.MKT_VAL_LG_M,t0.MKT_VAL_ST_M,t0.FUT_MKT_VAL_LG_M,t0.FUT_MKT_VAL_ST_M,t0.ECONOMIC_M,t0.REALIZED_M,t0.UNREALIZED_M,t0.FUT_RLZD_M,t0.FUT_UNRLZD_M,t0.CURR_RLZD_M,t0.CURR_UNRLZD_M,t0.UNREALIZED_ADJ_M,t0.UNREAL_MISC_ADJ_M,t0.CRED_VAL_ADJ_M,t0.LIQUIDITY_ADJ_M,t0.NPV_ADJ_M,t0.MODEL_ADJ_M,t0.BIDOFFER_ADJ_M,t0.WITHOLDINGTAX_ADJ_M,t0.CUSTRECV_ADJ_M,t0.CUSTPAY_ADJ_M,t0.MARKVSHEDGE_ADJ_M,t0.UNOBSPNL_ADJ_M,t0.REALIZED_ADJ_M,t0.OTHER_RLZD_M,t0.NEW_BIZ_M,t0.TRANSFER_TAX_M,t0.EXCHANGE_TAX_M,t0.TRADE_FEE_M,t0.CASH_DIFF_M,t0.BASE_CONTROL_M,t0.CURR_POS_M,t0.EXPENSE_POS_M,t0.FUT_REAL_ND_M,t0.FUT_OPTPREM_ND_M,t0.UNSETL_PURCH_INT_M,t0.OTHER_ADJ_M,t0.PND_ACC_REAL_M,t0.EXP_ACC_M,t0.EXP_PAY_M,t0.OTHER_UNRLZD_ADJ_M,t0.CONTRACT_NPV_M,t0.VAL_ADJ_M,t0.FX_REVAL_ADJ_M,t0.DIV_ACC_LG_M,t0.DIV_ACC_ST_M,t0.NET_COST_M,t0.DIV_PAID_RCVD_M,t0.FWD_NEW_BIZ_M,t0.FWD_ROLL_NEW_BIZ_M,t0.MTM_M,t0.GMI_UNRLZD_M,t0.RES_MKT_VAL_M,t0.UNREAL_MISC_NB_ADJ_M,t0.NPV_NB_ADJ_M,t0.ALLOC_PNL_M,t0.PAYDWN_M,t0.PAYDWN_LTD_M,t0.OTHR_PNL_M";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*78);
+		result.append(databaseAlias).append(".").append("GROUP_I");
+		result.append(",").append(databaseAlias).append(".").append("POS_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("DENOM_CURR_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_CURR_C");
+		result.append(",").append(databaseAlias).append(".").append("VIEW_I");
+		result.append(",").append(databaseAlias).append(".").append("INT_REC_M");
+		result.append(",").append(databaseAlias).append(".").append("INT_PAY_M");
+		result.append(",").append(databaseAlias).append(".").append("INT_INC_M");
+		result.append(",").append(databaseAlias).append(".").append("INT_EXP_M");
+		result.append(",").append(databaseAlias).append(".").append("INT_BOUGHT_M");
+		result.append(",").append(databaseAlias).append(".").append("INT_SOLD_M");
+		result.append(",").append(databaseAlias).append(".").append("INT_REC_DISC_M");
+		result.append(",").append(databaseAlias).append(".").append("INT_PAY_DISC_M");
+		result.append(",").append(databaseAlias).append(".").append("INT_INC_DISC_M");
+		result.append(",").append(databaseAlias).append(".").append("INT_EXP_DISC_M");
+		result.append(",").append(databaseAlias).append(".").append("ADJ_INT_UNREC_M");
+		result.append(",").append(databaseAlias).append(".").append("ADJ_INT_OTHER_M");
+		result.append(",").append(databaseAlias).append(".").append("COST_LG_M");
+		result.append(",").append(databaseAlias).append(".").append("COST_ST_M");
+		result.append(",").append(databaseAlias).append(".").append("MKT_VAL_LG_M");
+		result.append(",").append(databaseAlias).append(".").append("MKT_VAL_ST_M");
+		result.append(",").append(databaseAlias).append(".").append("FUT_MKT_VAL_LG_M");
+		result.append(",").append(databaseAlias).append(".").append("FUT_MKT_VAL_ST_M");
+		result.append(",").append(databaseAlias).append(".").append("ECONOMIC_M");
+		result.append(",").append(databaseAlias).append(".").append("REALIZED_M");
+		result.append(",").append(databaseAlias).append(".").append("UNREALIZED_M");
+		result.append(",").append(databaseAlias).append(".").append("FUT_RLZD_M");
+		result.append(",").append(databaseAlias).append(".").append("FUT_UNRLZD_M");
+		result.append(",").append(databaseAlias).append(".").append("CURR_RLZD_M");
+		result.append(",").append(databaseAlias).append(".").append("CURR_UNRLZD_M");
+		result.append(",").append(databaseAlias).append(".").append("UNREALIZED_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("UNREAL_MISC_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("CRED_VAL_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("LIQUIDITY_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("NPV_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("MODEL_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("BIDOFFER_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("WITHOLDINGTAX_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("CUSTRECV_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("CUSTPAY_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("MARKVSHEDGE_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("UNOBSPNL_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("REALIZED_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("OTHER_RLZD_M");
+		result.append(",").append(databaseAlias).append(".").append("NEW_BIZ_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANSFER_TAX_M");
+		result.append(",").append(databaseAlias).append(".").append("EXCHANGE_TAX_M");
+		result.append(",").append(databaseAlias).append(".").append("TRADE_FEE_M");
+		result.append(",").append(databaseAlias).append(".").append("CASH_DIFF_M");
+		result.append(",").append(databaseAlias).append(".").append("BASE_CONTROL_M");
+		result.append(",").append(databaseAlias).append(".").append("CURR_POS_M");
+		result.append(",").append(databaseAlias).append(".").append("EXPENSE_POS_M");
+		result.append(",").append(databaseAlias).append(".").append("FUT_REAL_ND_M");
+		result.append(",").append(databaseAlias).append(".").append("FUT_OPTPREM_ND_M");
+		result.append(",").append(databaseAlias).append(".").append("UNSETL_PURCH_INT_M");
+		result.append(",").append(databaseAlias).append(".").append("OTHER_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("PND_ACC_REAL_M");
+		result.append(",").append(databaseAlias).append(".").append("EXP_ACC_M");
+		result.append(",").append(databaseAlias).append(".").append("EXP_PAY_M");
+		result.append(",").append(databaseAlias).append(".").append("OTHER_UNRLZD_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("CONTRACT_NPV_M");
+		result.append(",").append(databaseAlias).append(".").append("VAL_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("FX_REVAL_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("DIV_ACC_LG_M");
+		result.append(",").append(databaseAlias).append(".").append("DIV_ACC_ST_M");
+		result.append(",").append(databaseAlias).append(".").append("NET_COST_M");
+		result.append(",").append(databaseAlias).append(".").append("DIV_PAID_RCVD_M");
+		result.append(",").append(databaseAlias).append(".").append("FWD_NEW_BIZ_M");
+		result.append(",").append(databaseAlias).append(".").append("FWD_ROLL_NEW_BIZ_M");
+		result.append(",").append(databaseAlias).append(".").append("MTM_M");
+		result.append(",").append(databaseAlias).append(".").append("GMI_UNRLZD_M");
+		result.append(",").append(databaseAlias).append(".").append("RES_MKT_VAL_M");
+		result.append(",").append(databaseAlias).append(".").append("UNREAL_MISC_NB_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("NPV_NB_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("ALLOC_PNL_M");
+		result.append(",").append(databaseAlias).append(".").append("PAYDWN_M");
+		result.append(",").append(databaseAlias).append(".").append("PAYDWN_LTD_M");
+		result.append(",").append(databaseAlias).append(".").append("OTHR_PNL_M");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AggregateTrialCurrencyExposureData inflateAggregateTrialCurrencyExposureData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		AggregateTrialCurrencyExposureData data = inflateAggregateTrialCurrencyExposurePkData(rs, dt);
+		inflateNonPkAggregateTrialCurrencyExposureData(5, data, rs, dt);
+		return data;
+	}
+
+	public AggregateTrialCurrencyExposureData inflateAggregateTrialCurrencyExposurePkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		AggregateTrialCurrencyExposureData _data = new AggregateTrialCurrencyExposureData();
+		int _pos = 1;
+		_data.setAccount9Digits(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "account9Digits");
+		_data.setPositionType(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "positionType");
+		_data.setCurrency(trimString(_rs.getString(_pos++)));
+		_data.setProductCurrency(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkAggregateTrialCurrencyExposureData(int _pos, AggregateTrialCurrencyExposureData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			AggregateTrialCurrencyExposureData _data = _datax;
+			_data.setDataLevel(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDataLevelNull();
+			}
+
+			_data.setInterestReceivable(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestReceivableNull();
+			}
+
+			_data.setInterestPayable(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestPayableNull();
+			}
+
+			_data.setInterestIncome(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestIncomeNull();
+			}
+
+			_data.setInterestExpense(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestExpenseNull();
+			}
+
+			_data.setInterestBought(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestBoughtNull();
+			}
+
+			_data.setInterestSold(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestSoldNull();
+			}
+
+			_data.setInterestReceivableDiscount(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestReceivableDiscountNull();
+			}
+
+			_data.setInterestPayableDiscount(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestPayableDiscountNull();
+			}
+
+			_data.setInterestIncomeDiscount(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestIncomeDiscountNull();
+			}
+
+			_data.setInterestExpenseDiscount(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterestExpenseDiscountNull();
+			}
+
+			_data.setUnrecAdjustmentInterest(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUnrecAdjustmentInterestNull();
+			}
+
+			_data.setOtherAdjustmentInterest(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOtherAdjustmentInterestNull();
+			}
+
+			_data.setCostLong(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCostLongNull();
+			}
+
+			_data.setCostShort(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCostShortNull();
+			}
+
+			_data.setMarketValueLong(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMarketValueLongNull();
+			}
+
+			_data.setMarketValueShort(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMarketValueShortNull();
+			}
+
+			_data.setFutureMarketValueLong(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFutureMarketValueLongNull();
+			}
+
+			_data.setFutureMarketValueShort(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFutureMarketValueShortNull();
+			}
+
+			_data.setTrading(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTradingNull();
+			}
+
+			_data.setRealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRealizedNull();
+			}
+
+			_data.setUnrealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUnrealizedNull();
+			}
+
+			_data.setFutureRealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFutureRealizedNull();
+			}
+
+			_data.setFutureUnrealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFutureUnrealizedNull();
+			}
+
+			_data.setCurrencyRealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCurrencyRealizedNull();
+			}
+
+			_data.setCurrencyUnrealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCurrencyUnrealizedNull();
+			}
+
+			_data.setUnrealizedAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUnrealizedAdjustmentNull();
+			}
+
+			_data.setMiscellaneousUnrealizedAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMiscellaneousUnrealizedAdjustmentNull();
+			}
+
+			_data.setCreditValuationAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCreditValuationAdjustmentNull();
+			}
+
+			_data.setLiquidityAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setLiquidityAdjustmentNull();
+			}
+
+			_data.setNpvAjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNpvAjustmentNull();
+			}
+
+			_data.setModelAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setModelAdjustmentNull();
+			}
+
+			_data.setBidOfferAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBidOfferAdjustmentNull();
+			}
+
+			_data.setWithholdingTaxAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setWithholdingTaxAdjustmentNull();
+			}
+
+			_data.setCustomerReceivableAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCustomerReceivableAdjustmentNull();
+			}
+
+			_data.setCustomerPayableAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCustomerPayableAdjustmentNull();
+			}
+
+			_data.setMarketVsHedgeAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMarketVsHedgeAdjustmentNull();
+			}
+
+			_data.setUnobsPnlAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUnobsPnlAdjustmentNull();
+			}
+
+			_data.setRealizedAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRealizedAdjustmentNull();
+			}
+
+			_data.setOtherRealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOtherRealizedNull();
+			}
+
+			_data.setNewBiz(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNewBizNull();
+			}
+
+			_data.setTransferTax(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransferTaxNull();
+			}
+
+			_data.setExchangeTax(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setExchangeTaxNull();
+			}
+
+			_data.setTradeFee(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTradeFeeNull();
+			}
+
+			_data.setCashDifference(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCashDifferenceNull();
+			}
+
+			_data.setBaseControl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBaseControlNull();
+			}
+
+			_data.setCurrencyPos(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCurrencyPosNull();
+			}
+
+			_data.setExpensePos(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setExpensePosNull();
+			}
+
+			_data.setFutureRealizedNd(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFutureRealizedNdNull();
+			}
+
+			_data.setFutureOptPremND(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFutureOptPremNDNull();
+			}
+
+			_data.setUnsettledPurchaseInterest(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUnsettledPurchaseInterestNull();
+			}
+
+			_data.setOtherAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOtherAdjustmentNull();
+			}
+
+			_data.setPendingAccrualRealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPendingAccrualRealizedNull();
+			}
+
+			_data.setExpenseAccrual(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setExpenseAccrualNull();
+			}
+
+			_data.setExpensePayable(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setExpensePayableNull();
+			}
+
+			_data.setOtherUnrealizedAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOtherUnrealizedAdjustmentNull();
+			}
+
+			_data.setContractNpv(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setContractNpvNull();
+			}
+
+			_data.setValuationAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setValuationAdjustmentNull();
+			}
+
+			_data.setFxRevaluationAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFxRevaluationAdjustmentNull();
+			}
+
+			_data.setDividendAccrualLong(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDividendAccrualLongNull();
+			}
+
+			_data.setDividendAccrualShort(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDividendAccrualShortNull();
+			}
+
+			_data.setNetCost(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNetCostNull();
+			}
+
+			_data.setDividendPaidReceived(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDividendPaidReceivedNull();
+			}
+
+			_data.setFwdNewBiz(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFwdNewBizNull();
+			}
+
+			_data.setFwdRollNewBiz(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFwdRollNewBizNull();
+			}
+
+			_data.setMtm(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMtmNull();
+			}
+
+			_data.setGmiUnrealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setGmiUnrealizedNull();
+			}
+
+			_data.setReserveMarketValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setReserveMarketValueNull();
+			}
+
+			_data.setMiscellaneousUnrealizedNbAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMiscellaneousUnrealizedNbAdjustmentNull();
+			}
+
+			_data.setNpvNbAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNpvNbAdjustmentNull();
+			}
+
+			_data.setAllocationPnl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAllocationPnlNull();
+			}
+
+			_data.setPaydownPnl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPaydownPnlNull();
+			}
+
+			_data.setPaydownLtdPnl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPaydownLtdPnlNull();
+			}
+
+			_data.setOtherPnl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOtherPnlNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TAGTRIAL_CURR";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AggregateTrialCurrencyExposureData data = (AggregateTrialCurrencyExposureData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAccount9Digits());
+		stm.setInt(pos++, data.getPositionType());
+		if(data.isCurrencyNull())
+		{
+			throwNullAttribute("currency");
+		}
+
+		stm.setString(pos++, data.getCurrency());
+		if(data.isProductCurrencyNull())
+		{
+			throwNullAttribute("productCurrency");
+		}
+
+		stm.setString(pos++, data.getProductCurrency());
+		if (data.isDataLevelNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getDataLevel());
+		}
+
+		if (data.isInterestReceivableNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestReceivable());
+		}
+
+		if (data.isInterestPayableNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestPayable());
+		}
+
+		if (data.isInterestIncomeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestIncome());
+		}
+
+		if (data.isInterestExpenseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestExpense());
+		}
+
+		if (data.isInterestBoughtNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestBought());
+		}
+
+		if (data.isInterestSoldNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestSold());
+		}
+
+		if (data.isInterestReceivableDiscountNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestReceivableDiscount());
+		}
+
+		if (data.isInterestPayableDiscountNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestPayableDiscount());
+		}
+
+		if (data.isInterestIncomeDiscountNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestIncomeDiscount());
+		}
+
+		if (data.isInterestExpenseDiscountNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getInterestExpenseDiscount());
+		}
+
+		if (data.isUnrecAdjustmentInterestNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getUnrecAdjustmentInterest());
+		}
+
+		if (data.isOtherAdjustmentInterestNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOtherAdjustmentInterest());
+		}
+
+		if (data.isCostLongNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getCostLong());
+		}
+
+		if (data.isCostShortNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getCostShort());
+		}
+
+		if (data.isMarketValueLongNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMarketValueLong());
+		}
+
+		if (data.isMarketValueShortNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMarketValueShort());
+		}
+
+		if (data.isFutureMarketValueLongNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFutureMarketValueLong());
+		}
+
+		if (data.isFutureMarketValueShortNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFutureMarketValueShort());
+		}
+
+		if (data.isTradingNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTrading());
+		}
+
+		if (data.isRealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getRealized());
+		}
+
+		if (data.isUnrealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getUnrealized());
+		}
+
+		if (data.isFutureRealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFutureRealized());
+		}
+
+		if (data.isFutureUnrealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFutureUnrealized());
+		}
+
+		if (data.isCurrencyRealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getCurrencyRealized());
+		}
+
+		if (data.isCurrencyUnrealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getCurrencyUnrealized());
+		}
+
+		if (data.isUnrealizedAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getUnrealizedAdjustment());
+		}
+
+		if (data.isMiscellaneousUnrealizedAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMiscellaneousUnrealizedAdjustment());
+		}
+
+		if (data.isCreditValuationAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getCreditValuationAdjustment());
+		}
+
+		if (data.isLiquidityAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getLiquidityAdjustment());
+		}
+
+		if (data.isNpvAjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getNpvAjustment());
+		}
+
+		if (data.isModelAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getModelAdjustment());
+		}
+
+		if (data.isBidOfferAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getBidOfferAdjustment());
+		}
+
+		if (data.isWithholdingTaxAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getWithholdingTaxAdjustment());
+		}
+
+		if (data.isCustomerReceivableAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getCustomerReceivableAdjustment());
+		}
+
+		if (data.isCustomerPayableAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getCustomerPayableAdjustment());
+		}
+
+		if (data.isMarketVsHedgeAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMarketVsHedgeAdjustment());
+		}
+
+		if (data.isUnobsPnlAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getUnobsPnlAdjustment());
+		}
+
+		if (data.isRealizedAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getRealizedAdjustment());
+		}
+
+		if (data.isOtherRealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOtherRealized());
+		}
+
+		if (data.isNewBizNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getNewBiz());
+		}
+
+		if (data.isTransferTaxNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransferTax());
+		}
+
+		if (data.isExchangeTaxNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getExchangeTax());
+		}
+
+		if (data.isTradeFeeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTradeFee());
+		}
+
+		if (data.isCashDifferenceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getCashDifference());
+		}
+
+		if (data.isBaseControlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getBaseControl());
+		}
+
+		if (data.isCurrencyPosNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getCurrencyPos());
+		}
+
+		if (data.isExpensePosNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getExpensePos());
+		}
+
+		if (data.isFutureRealizedNdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFutureRealizedNd());
+		}
+
+		if (data.isFutureOptPremNDNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFutureOptPremND());
+		}
+
+		if (data.isUnsettledPurchaseInterestNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getUnsettledPurchaseInterest());
+		}
+
+		if (data.isOtherAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOtherAdjustment());
+		}
+
+		if (data.isPendingAccrualRealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPendingAccrualRealized());
+		}
+
+		if (data.isExpenseAccrualNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getExpenseAccrual());
+		}
+
+		if (data.isExpensePayableNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getExpensePayable());
+		}
+
+		if (data.isOtherUnrealizedAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOtherUnrealizedAdjustment());
+		}
+
+		if (data.isContractNpvNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getContractNpv());
+		}
+
+		if (data.isValuationAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getValuationAdjustment());
+		}
+
+		if (data.isFxRevaluationAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFxRevaluationAdjustment());
+		}
+
+		if (data.isDividendAccrualLongNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getDividendAccrualLong());
+		}
+
+		if (data.isDividendAccrualShortNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getDividendAccrualShort());
+		}
+
+		if (data.isNetCostNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getNetCost());
+		}
+
+		if (data.isDividendPaidReceivedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getDividendPaidReceived());
+		}
+
+		if (data.isFwdNewBizNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFwdNewBiz());
+		}
+
+		if (data.isFwdRollNewBizNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFwdRollNewBiz());
+		}
+
+		if (data.isMtmNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMtm());
+		}
+
+		if (data.isGmiUnrealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getGmiUnrealized());
+		}
+
+		if (data.isReserveMarketValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getReserveMarketValue());
+		}
+
+		if (data.isMiscellaneousUnrealizedNbAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMiscellaneousUnrealizedNbAdjustment());
+		}
+
+		if (data.isNpvNbAdjustmentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getNpvNbAdjustment());
+		}
+
+		if (data.isAllocationPnlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getAllocationPnl());
+		}
+
+		if (data.isPaydownPnlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPaydownPnl());
+		}
+
+		if (data.isPaydownLtdPnlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPaydownLtdPnl());
+		}
+
+		if (data.isOtherPnlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOtherPnl());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "GROUP_I,POS_TYP_C,DENOM_CURR_C,PROD_CURR_C,VIEW_I,INT_REC_M,INT_PAY_M,INT_INC_M,INT_EXP_M,INT_BOUGHT_M,INT_SOLD_M,INT_REC_DISC_M,INT_PAY_DISC_M,INT_INC_DISC_M,INT_EXP_DISC_M,ADJ_INT_UNREC_M,ADJ_INT_OTHER_M,COST_LG_M,COST_ST_M,MKT_VAL_LG_M,MKT_VAL_ST_M,FUT_MKT_VAL_LG_M,FUT_MKT_VAL_ST_M,ECONOMIC_M,REALIZED_M,UNREALIZED_M,FUT_RLZD_M,FUT_UNRLZD_M,CURR_RLZD_M,CURR_UNRLZD_M,UNREALIZED_ADJ_M,UNREAL_MISC_ADJ_M,CRED_VAL_ADJ_M,LIQUIDITY_ADJ_M,NPV_ADJ_M,MODEL_ADJ_M,BIDOFFER_ADJ_M,WITHOLDINGTAX_ADJ_M,CUSTRECV_ADJ_M,CUSTPAY_ADJ_M,MARKVSHEDGE_ADJ_M,UNOBSPNL_ADJ_M,REALIZED_ADJ_M,OTHER_RLZD_M,NEW_BIZ_M,TRANSFER_TAX_M,EXCHANGE_TAX_M,TRADE_FEE_M,CASH_DIFF_M,BASE_CONTROL_M,CURR_POS_M,EXPENSE_POS_M,FUT_REAL_ND_M,FUT_OPTPREM_ND_M,UNSETL_PURCH_INT_M,OTHER_ADJ_M,PND_ACC_REAL_M,EXP_ACC_M,EXP_PAY_M,OTHER_UNRLZD_ADJ_M,CONTRACT_NPV_M,VAL_ADJ_M,FX_REVAL_ADJ_M,DIV_ACC_LG_M,DIV_ACC_ST_M,NET_COST_M,DIV_PAID_RCVD_M,FWD_NEW_BIZ_M,FWD_ROLL_NEW_BIZ_M,MTM_M,GMI_UNRLZD_M,RES_MKT_VAL_M,UNREAL_MISC_NB_ADJ_M,NPV_NB_ADJ_M,ALLOC_PNL_M,PAYDWN_M,PAYDWN_LTD_M,OTHR_PNL_M";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		AggregateTrialCurrencyExposure newObject = new AggregateTrialCurrencyExposure();
+		newObject.zSetFromAggregateTrialCurrencyExposureData((AggregateTrialCurrencyExposureData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.GROUP_I,t0.POS_TYP_C,t0.DENOM_CURR_C,t0.PROD_CURR_C";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*78);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("GROUP_I");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("POS_TYP_C");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DENOM_CURR_C");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("PROD_CURR_C");
+		return result.toString();
+	}
+}
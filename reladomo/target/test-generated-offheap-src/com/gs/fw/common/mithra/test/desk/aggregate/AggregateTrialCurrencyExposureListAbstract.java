@@ -0,0 +1,885 @@
+package com.gs.fw.common.mithra.test.desk.aggregate;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AggregateTrialCurrencyExposureListAbstract extends DelegatingList<AggregateTrialCurrencyExposure> implements MithraTransactionalList<AggregateTrialCurrencyExposure>
+{
+	public AggregateTrialCurrencyExposureListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AggregateTrialCurrencyExposureListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AggregateTrialCurrencyExposureListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AggregateTrialCurrencyExposureListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AggregateTrialCurrencyExposure[] elements()
+	{
+		AggregateTrialCurrencyExposure[] result = new AggregateTrialCurrencyExposure[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AggregateTrialCurrencyExposureList intersection(AggregateTrialCurrencyExposureList another)
+	{
+		return (AggregateTrialCurrencyExposureList)super.intersection(another);
+	}
+
+	public AggregateTrialCurrencyExposure getAggregateTrialCurrencyExposureAt(int index)
+	{
+		return (AggregateTrialCurrencyExposure)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AggregateTrialCurrencyExposureFinder.getMithraObjectPortal();
+	}
+
+	public AggregateTrialCurrencyExposureList getNonPersistentCopy()
+	{
+		AggregateTrialCurrencyExposureList result = new AggregateTrialCurrencyExposureList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AggregateTrialCurrencyExposureList asAdhoc()
+	{
+		return (AggregateTrialCurrencyExposureList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AggregateTrialCurrencyExposure> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AggregateTrialCurrencyExposureList merge(MithraTransactionalList<AggregateTrialCurrencyExposure> incoming, TopLevelMergeOptions<AggregateTrialCurrencyExposure> mergeOptions)
+	{
+		return (AggregateTrialCurrencyExposureList) super.merge(incoming, mergeOptions);
+	}
+
+	public AggregateTrialCurrencyExposureList getDetachedCopy()
+	{
+		AggregateTrialCurrencyExposureList result = new AggregateTrialCurrencyExposureList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccount9Digits(int newValue)
+	{
+		zSetInteger(AggregateTrialCurrencyExposureFinder.account9Digits(), newValue);
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(AggregateTrialCurrencyExposureFinder.positionType(), newValue);
+	}
+
+	public void setCurrency(String newValue)
+	{
+		zSetString(AggregateTrialCurrencyExposureFinder.currency(), newValue);
+	}
+
+	public void setProductCurrency(String newValue)
+	{
+		zSetString(AggregateTrialCurrencyExposureFinder.productCurrency(), newValue);
+	}
+
+	public void setDataLevel(int newValue)
+	{
+		zSetInteger(AggregateTrialCurrencyExposureFinder.dataLevel(), newValue);
+	}
+
+	public void setInterestReceivable(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestReceivable(), newValue);
+	}
+
+	public void setInterestPayable(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestPayable(), newValue);
+	}
+
+	public void setInterestIncome(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestIncome(), newValue);
+	}
+
+	public void setInterestExpense(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestExpense(), newValue);
+	}
+
+	public void setInterestBought(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestBought(), newValue);
+	}
+
+	public void setInterestSold(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestSold(), newValue);
+	}
+
+	public void setInterestReceivableDiscount(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestReceivableDiscount(), newValue);
+	}
+
+	public void setInterestPayableDiscount(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestPayableDiscount(), newValue);
+	}
+
+	public void setInterestIncomeDiscount(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestIncomeDiscount(), newValue);
+	}
+
+	public void setInterestExpenseDiscount(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.interestExpenseDiscount(), newValue);
+	}
+
+	public void setUnrecAdjustmentInterest(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unrecAdjustmentInterest(), newValue);
+	}
+
+	public void setOtherAdjustmentInterest(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherAdjustmentInterest(), newValue);
+	}
+
+	public void setCostLong(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.costLong(), newValue);
+	}
+
+	public void setCostShort(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.costShort(), newValue);
+	}
+
+	public void setMarketValueLong(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.marketValueLong(), newValue);
+	}
+
+	public void setMarketValueShort(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.marketValueShort(), newValue);
+	}
+
+	public void setFutureMarketValueLong(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureMarketValueLong(), newValue);
+	}
+
+	public void setFutureMarketValueShort(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureMarketValueShort(), newValue);
+	}
+
+	public void setTrading(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.trading(), newValue);
+	}
+
+	public void setRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.realized(), newValue);
+	}
+
+	public void setUnrealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unrealized(), newValue);
+	}
+
+	public void setFutureRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureRealized(), newValue);
+	}
+
+	public void setFutureUnrealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureUnrealized(), newValue);
+	}
+
+	public void setCurrencyRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.currencyRealized(), newValue);
+	}
+
+	public void setCurrencyUnrealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.currencyUnrealized(), newValue);
+	}
+
+	public void setUnrealizedAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unrealizedAdjustment(), newValue);
+	}
+
+	public void setMiscellaneousUnrealizedAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedAdjustment(), newValue);
+	}
+
+	public void setCreditValuationAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.creditValuationAdjustment(), newValue);
+	}
+
+	public void setLiquidityAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.liquidityAdjustment(), newValue);
+	}
+
+	public void setNpvAjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.npvAjustment(), newValue);
+	}
+
+	public void setModelAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.modelAdjustment(), newValue);
+	}
+
+	public void setBidOfferAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.bidOfferAdjustment(), newValue);
+	}
+
+	public void setWithholdingTaxAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.withholdingTaxAdjustment(), newValue);
+	}
+
+	public void setCustomerReceivableAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.customerReceivableAdjustment(), newValue);
+	}
+
+	public void setCustomerPayableAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.customerPayableAdjustment(), newValue);
+	}
+
+	public void setMarketVsHedgeAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.marketVsHedgeAdjustment(), newValue);
+	}
+
+	public void setUnobsPnlAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unobsPnlAdjustment(), newValue);
+	}
+
+	public void setRealizedAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.realizedAdjustment(), newValue);
+	}
+
+	public void setOtherRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherRealized(), newValue);
+	}
+
+	public void setNewBiz(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.newBiz(), newValue);
+	}
+
+	public void setTransferTax(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.transferTax(), newValue);
+	}
+
+	public void setExchangeTax(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.exchangeTax(), newValue);
+	}
+
+	public void setTradeFee(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.tradeFee(), newValue);
+	}
+
+	public void setCashDifference(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.cashDifference(), newValue);
+	}
+
+	public void setBaseControl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.baseControl(), newValue);
+	}
+
+	public void setCurrencyPos(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.currencyPos(), newValue);
+	}
+
+	public void setExpensePos(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.expensePos(), newValue);
+	}
+
+	public void setFutureRealizedNd(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureRealizedNd(), newValue);
+	}
+
+	public void setFutureOptPremND(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.futureOptPremND(), newValue);
+	}
+
+	public void setUnsettledPurchaseInterest(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.unsettledPurchaseInterest(), newValue);
+	}
+
+	public void setOtherAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherAdjustment(), newValue);
+	}
+
+	public void setPendingAccrualRealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.pendingAccrualRealized(), newValue);
+	}
+
+	public void setExpenseAccrual(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.expenseAccrual(), newValue);
+	}
+
+	public void setExpensePayable(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.expensePayable(), newValue);
+	}
+
+	public void setOtherUnrealizedAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherUnrealizedAdjustment(), newValue);
+	}
+
+	public void setContractNpv(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.contractNpv(), newValue);
+	}
+
+	public void setValuationAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.valuationAdjustment(), newValue);
+	}
+
+	public void setFxRevaluationAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.fxRevaluationAdjustment(), newValue);
+	}
+
+	public void setDividendAccrualLong(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.dividendAccrualLong(), newValue);
+	}
+
+	public void setDividendAccrualShort(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.dividendAccrualShort(), newValue);
+	}
+
+	public void setNetCost(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.netCost(), newValue);
+	}
+
+	public void setDividendPaidReceived(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.dividendPaidReceived(), newValue);
+	}
+
+	public void setFwdNewBiz(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.fwdNewBiz(), newValue);
+	}
+
+	public void setFwdRollNewBiz(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.fwdRollNewBiz(), newValue);
+	}
+
+	public void setMtm(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.mtm(), newValue);
+	}
+
+	public void setGmiUnrealized(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.gmiUnrealized(), newValue);
+	}
+
+	public void setReserveMarketValue(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.reserveMarketValue(), newValue);
+	}
+
+	public void setMiscellaneousUnrealizedNbAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedNbAdjustment(), newValue);
+	}
+
+	public void setNpvNbAdjustment(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.npvNbAdjustment(), newValue);
+	}
+
+	public void setAllocationPnl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.allocationPnl(), newValue);
+	}
+
+	public void setPaydownPnl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.paydownPnl(), newValue);
+	}
+
+	public void setPaydownLtdPnl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.paydownLtdPnl(), newValue);
+	}
+
+	public void setOtherPnl(double newValue)
+	{
+		zSetDouble(AggregateTrialCurrencyExposureFinder.otherPnl(), newValue);
+	}
+
+	public void setDataLevelNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.dataLevel());
+	}
+
+	public void setInterestReceivableNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestReceivable());
+	}
+
+	public void setInterestPayableNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestPayable());
+	}
+
+	public void setInterestIncomeNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestIncome());
+	}
+
+	public void setInterestExpenseNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestExpense());
+	}
+
+	public void setInterestBoughtNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestBought());
+	}
+
+	public void setInterestSoldNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestSold());
+	}
+
+	public void setInterestReceivableDiscountNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestReceivableDiscount());
+	}
+
+	public void setInterestPayableDiscountNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestPayableDiscount());
+	}
+
+	public void setInterestIncomeDiscountNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestIncomeDiscount());
+	}
+
+	public void setInterestExpenseDiscountNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.interestExpenseDiscount());
+	}
+
+	public void setUnrecAdjustmentInterestNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.unrecAdjustmentInterest());
+	}
+
+	public void setOtherAdjustmentInterestNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.otherAdjustmentInterest());
+	}
+
+	public void setCostLongNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.costLong());
+	}
+
+	public void setCostShortNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.costShort());
+	}
+
+	public void setMarketValueLongNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.marketValueLong());
+	}
+
+	public void setMarketValueShortNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.marketValueShort());
+	}
+
+	public void setFutureMarketValueLongNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.futureMarketValueLong());
+	}
+
+	public void setFutureMarketValueShortNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.futureMarketValueShort());
+	}
+
+	public void setTradingNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.trading());
+	}
+
+	public void setRealizedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.realized());
+	}
+
+	public void setUnrealizedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.unrealized());
+	}
+
+	public void setFutureRealizedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.futureRealized());
+	}
+
+	public void setFutureUnrealizedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.futureUnrealized());
+	}
+
+	public void setCurrencyRealizedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.currencyRealized());
+	}
+
+	public void setCurrencyUnrealizedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.currencyUnrealized());
+	}
+
+	public void setUnrealizedAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.unrealizedAdjustment());
+	}
+
+	public void setMiscellaneousUnrealizedAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedAdjustment());
+	}
+
+	public void setCreditValuationAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.creditValuationAdjustment());
+	}
+
+	public void setLiquidityAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.liquidityAdjustment());
+	}
+
+	public void setNpvAjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.npvAjustment());
+	}
+
+	public void setModelAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.modelAdjustment());
+	}
+
+	public void setBidOfferAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.bidOfferAdjustment());
+	}
+
+	public void setWithholdingTaxAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.withholdingTaxAdjustment());
+	}
+
+	public void setCustomerReceivableAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.customerReceivableAdjustment());
+	}
+
+	public void setCustomerPayableAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.customerPayableAdjustment());
+	}
+
+	public void setMarketVsHedgeAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.marketVsHedgeAdjustment());
+	}
+
+	public void setUnobsPnlAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.unobsPnlAdjustment());
+	}
+
+	public void setRealizedAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.realizedAdjustment());
+	}
+
+	public void setOtherRealizedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.otherRealized());
+	}
+
+	public void setNewBizNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.newBiz());
+	}
+
+	public void setTransferTaxNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.transferTax());
+	}
+
+	public void setExchangeTaxNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.exchangeTax());
+	}
+
+	public void setTradeFeeNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.tradeFee());
+	}
+
+	public void setCashDifferenceNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.cashDifference());
+	}
+
+	public void setBaseControlNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.baseControl());
+	}
+
+	public void setCurrencyPosNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.currencyPos());
+	}
+
+	public void setExpensePosNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.expensePos());
+	}
+
+	public void setFutureRealizedNdNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.futureRealizedNd());
+	}
+
+	public void setFutureOptPremNDNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.futureOptPremND());
+	}
+
+	public void setUnsettledPurchaseInterestNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.unsettledPurchaseInterest());
+	}
+
+	public void setOtherAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.otherAdjustment());
+	}
+
+	public void setPendingAccrualRealizedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.pendingAccrualRealized());
+	}
+
+	public void setExpenseAccrualNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.expenseAccrual());
+	}
+
+	public void setExpensePayableNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.expensePayable());
+	}
+
+	public void setOtherUnrealizedAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.otherUnrealizedAdjustment());
+	}
+
+	public void setContractNpvNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.contractNpv());
+	}
+
+	public void setValuationAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.valuationAdjustment());
+	}
+
+	public void setFxRevaluationAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.fxRevaluationAdjustment());
+	}
+
+	public void setDividendAccrualLongNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.dividendAccrualLong());
+	}
+
+	public void setDividendAccrualShortNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.dividendAccrualShort());
+	}
+
+	public void setNetCostNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.netCost());
+	}
+
+	public void setDividendPaidReceivedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.dividendPaidReceived());
+	}
+
+	public void setFwdNewBizNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.fwdNewBiz());
+	}
+
+	public void setFwdRollNewBizNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.fwdRollNewBiz());
+	}
+
+	public void setMtmNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.mtm());
+	}
+
+	public void setGmiUnrealizedNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.gmiUnrealized());
+	}
+
+	public void setReserveMarketValueNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.reserveMarketValue());
+	}
+
+	public void setMiscellaneousUnrealizedNbAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedNbAdjustment());
+	}
+
+	public void setNpvNbAdjustmentNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.npvNbAdjustment());
+	}
+
+	public void setAllocationPnlNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.allocationPnl());
+	}
+
+	public void setPaydownPnlNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.paydownPnl());
+	}
+
+	public void setPaydownLtdPnlNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.paydownLtdPnl());
+	}
+
+	public void setOtherPnlNull()
+	{
+		zSetAttributeNull(AggregateTrialCurrencyExposureFinder.otherPnl());
+	}
+}
@@ -0,0 +1,248 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AbstractChildAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AbstractChild.class.getName());
+	public AbstractChildAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AbstractChild getDetachedCopy() throws MithraBusinessException
+	{
+		return (AbstractChild) super.getDetachedCopy();
+	}
+
+	public AbstractChild getNonPersistentCopy() throws MithraBusinessException
+	{
+		AbstractChild result = (AbstractChild) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public AbstractChild copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AbstractChild) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AbstractChild zFindOriginal()
+	{
+		AbstractChildData data = (AbstractChildData) this.currentData;
+		Operation op;
+		op = AbstractChildFinder.childKey().eq(data.getChildKey());
+		return AbstractChildFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AbstractChildData();
+	}
+
+	protected void zSetFromAbstractChildData( AbstractChildData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAbstractChildData( AbstractChildData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+		out.writeObject("com.gs.fw.common.mithra.test.domain.AbstractChildData");
+	}
+
+	public final boolean isChildKeyNull()
+	{
+		return ((AbstractChildData) this.zSynchronizedGetData()).isChildKeyNull();
+	}
+
+	public final String getChildKey()
+	{
+		AbstractChildData data = (AbstractChildData) this.zSynchronizedGetData();
+		return data.getChildKey();
+	}
+
+	public void setChildKey(String newValue)
+	{
+		zSetString(AbstractChildFinder.childKey(), newValue, true, false );
+	}
+
+	public final boolean isParentKeyNull()
+	{
+		return ((AbstractChildData) this.zSynchronizedGetData()).isParentKeyNull();
+	}
+
+	public final String getParentKey()
+	{
+		AbstractChildData data = (AbstractChildData) this.zSynchronizedGetData();
+		return data.getParentKey();
+	}
+
+	public void setParentKey(String newValue)
+	{
+		zSetString(AbstractChildFinder.parentKey(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AbstractChildData _newData = (AbstractChildData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AbstractChildData _newData = (AbstractChildData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AbstractChildData _newData = (AbstractChildData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AbstractChild zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AbstractChild original = (AbstractChild) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AbstractChildFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AbstractChildFinder.getMithraObjectPortal();
+	}
+
+	public AbstractChild getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AbstractChildFinder.parentKey(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AbstractChildFinder.childKey(), true);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AbstractChildAbstract result = (AbstractChildAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,272 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AbstractChildData
+implements MithraDataObject
+{
+	private String childKey;
+	private String parentKey;
+	public final boolean isChildKeyNull()
+	{
+		return this.getChildKey() == null;
+	}
+
+	public final boolean isParentKeyNull()
+	{
+		return this.getParentKey() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.childKey);
+		out.writeObject(this.parentKey);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getChildKey()
+	{
+		return this.childKey;
+	}
+
+	public int zGetChildKeyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(childKey);
+	}
+
+	public void setChildKey(String value)
+	{
+		this.childKey = StringPool.getInstance().getOrAddToCache(value, AbstractChildFinder.isFullCache());
+	}
+
+	public void setChildKeyNull()
+	{
+		this.setChildKey(null);
+	}
+
+	public String getParentKey()
+	{
+		return this.parentKey;
+	}
+
+	public int zGetParentKeyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(parentKey);
+	}
+
+	public void setParentKey(String value)
+	{
+		this.parentKey = StringPool.getInstance().getOrAddToCache(value, AbstractChildFinder.isFullCache());
+	}
+
+	public void setParentKeyNull()
+	{
+		this.setParentKey(null);
+	}
+
+	protected void copyInto(AbstractChildData copy, boolean withRelationships)
+	{
+		copy.childKey = this.childKey;
+		copy.parentKey = this.parentKey;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.childKey = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AbstractChildFinder.isFullCache());
+		this.parentKey = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AbstractChildFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AbstractChildData otherData = (AbstractChildData) other;
+		if (!isChildKeyNull() ? !getChildKey().equals(otherData.getChildKey()) : !otherData.isChildKeyNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.childKey);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.childKey = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AbstractChildFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AbstractChildData abstractChildData = (AbstractChildData) newData;
+		this.setParentKey(abstractChildData.getParentKey());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AbstractChildData other = (AbstractChildData) newData;
+		if (!isParentKeyNull() ? !getParentKey().equals(other.getParentKey()) : !other.isParentKeyNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AbstractChildData copy = new AbstractChildData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AbstractChildData copy = new AbstractChildData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "childKey: "+"'"+getChildKey()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.getClass().getName());
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return (String) in.readObject();
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AbstractChildFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AbstractChildFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AbstractChildData";
+	}
+}
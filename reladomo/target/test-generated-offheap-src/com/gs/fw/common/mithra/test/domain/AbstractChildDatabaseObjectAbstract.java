@@ -0,0 +1,455 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AbstractChildDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "parent_key";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.parent_key";
+	private static final String PK_WITH_ALIAS = "t0.child_key = ?";
+	private static final String PK_INDEX_COLS = "child_key";
+	protected AbstractChildDatabaseObjectAbstract()
+	{
+		super("AbstractChild", "com.gs.fw.common.mithra.test.domain.AbstractChildFinder",
+			4, 2,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AbstractChildFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AbstractChildFinder.getFinderInstance();
+	}
+
+	public static AbstractChildData allocateOnHeapData()
+	{
+		return new AbstractChildData();
+	}
+
+	public static AbstractChildData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		java.lang.Class dataClass = com.gs.fw.common.mithra.remote.MithraSerialUtil.getDataClassToInstantiate((String) in.readObject());
+		MithraDataObject data = com.gs.fw.common.mithra.remote.MithraSerialUtil.instantiateData(dataClass);
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AbstractChildData data = new AbstractChildData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(AbstractChildFinder.getPrimaryKeyAttributes(), this, AbstractChildFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(AbstractChildFinder.getPrimaryKeyAttributes(), this, AbstractChildFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(AbstractChildFinder.getPrimaryKeyAttributes(), this, AbstractChildFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(AbstractChildFinder.getPrimaryKeyAttributes(), this, AbstractChildFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AbstractChildFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AbstractChildFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AbstractChild.zConfigFullTx();
+		}
+		else
+		{
+			AbstractChild.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAbstractChildData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAbstractChildData(1, (AbstractChildData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAbstractChildPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAbstractChildTableName();
+	}
+
+	public String getAbstractChildTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AbstractChildData data = (AbstractChildData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getChildKey());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "child_key = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0a.child_key,t0.child_key,t0.parent_key,t0a.child_property";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*2);
+		result.append(databaseAlias).append(".").append("child_key");
+		result.append(",").append(databaseAlias).append(".").append("parent_key");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AbstractChildData inflateAbstractChildData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		AbstractChildData data = inflateAbstractChildPkData(rs, dt);
+		inflateNonPkAbstractChildData(3, data, rs, dt);
+		return data;
+	}
+
+	public AbstractChildData inflateAbstractChildPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		int _spos = 1;
+		AbstractChildData _data = null;
+		if (_data == null)
+		{
+			Object o = _rs.getString(_spos);
+			if (o != null)
+			{
+				_data = new ConcreteChildData();
+			}
+
+			_spos++;
+		}
+
+		if (_data == null)
+		{
+			_data = new AbstractChildData();
+		}
+
+		int _pos = 2;
+		_data.setChildKey((_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkAbstractChildData(int _pos, AbstractChildData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			AbstractChildData _data = _datax;
+			_data.setParentKey((_rs.getString(_pos++)));
+		}
+
+		if (_datax instanceof ConcreteChildData)
+		{
+			ConcreteChildData _data = (ConcreteChildData) _datax;
+			_data.setChildProperty((_rs.getString(_pos++)));
+		}
+		else
+		{
+			_pos += 1;
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "ABSTRACT_CHILD";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AbstractChildData data = (AbstractChildData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isParentKeyNull())
+		{
+			throwNullAttribute("parentKey");
+		}
+
+		stm.setString(pos++, data.getParentKey());
+		if(data.isChildKeyNull())
+		{
+			throwNullAttribute("childKey");
+		}
+
+		stm.setString(pos++, data.getChildKey());
+	}
+
+	public String getInsertFields()
+	{
+		return "parent_key,child_key";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		AbstractChild newObject = constructAbstractChild(newData);
+		if (newData instanceof ConcreteChildData)
+		{
+			((ConcreteChild)newObject).zSetFromConcreteChildData((ConcreteChildData) newData);
+		}
+		else
+		newObject.zSetFromAbstractChildData((AbstractChildData) newData);
+		return newObject;
+	}
+
+	protected AbstractChild constructAbstractChild(MithraDataObject data)
+	{
+		if (data instanceof ConcreteChildData) return new ConcreteChild();
+		return new AbstractChild();
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.child_key";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*2);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("child_key");
+		return result.toString();
+	}
+}
@@ -0,0 +1,135 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AbstractChildListAbstract extends DelegatingList<AbstractChild> implements MithraTransactionalList<AbstractChild>
+{
+	public AbstractChildListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AbstractChildListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AbstractChildListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AbstractChildListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AbstractChild[] elements()
+	{
+		AbstractChild[] result = new AbstractChild[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AbstractChildList intersection(AbstractChildList another)
+	{
+		return (AbstractChildList)super.intersection(another);
+	}
+
+	public AbstractChild getAbstractChildAt(int index)
+	{
+		return (AbstractChild)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AbstractChildFinder.getMithraObjectPortal();
+	}
+
+	public AbstractChildList getNonPersistentCopy()
+	{
+		AbstractChildList result = new AbstractChildList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AbstractChildList asAdhoc()
+	{
+		return (AbstractChildList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AbstractChild> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AbstractChildList merge(MithraTransactionalList<AbstractChild> incoming, TopLevelMergeOptions<AbstractChild> mergeOptions)
+	{
+		return (AbstractChildList) super.merge(incoming, mergeOptions);
+	}
+
+	public AbstractChildList getDetachedCopy()
+	{
+		AbstractChildList result = new AbstractChildList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setParentKey(String newValue)
+	{
+		zSetString(AbstractChildFinder.parentKey(), newValue);
+	}
+
+	public void setChildKey(String newValue)
+	{
+		zSetString(AbstractChildFinder.childKey(), newValue);
+	}
+}
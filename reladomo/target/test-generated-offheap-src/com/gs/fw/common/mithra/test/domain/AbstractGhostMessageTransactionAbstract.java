@@ -0,0 +1,244 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/superclass/Abstract.jsp
+public abstract class AbstractGhostMessageTransactionAbstract extends com.gs.fw.common.mithra.test.domain.GhostMessageSuperClassCommonAbstract implements MithraObject
+{
+	//add getters for all attributes
+	public abstract boolean isTransactionIdNull();
+	public abstract int getTransactionId();
+	public abstract void setTransactionId(int transactionId);
+	public abstract boolean isTransactionTypeNull();
+	public abstract String getTransactionType();
+	public abstract void setTransactionType(String transactionType);
+	public abstract boolean isAccountIdNull();
+	public abstract String getAccountId();
+	public abstract void setAccountId(String accountId);
+	public abstract boolean isProfitCenterNull();
+	public abstract String getProfitCenter();
+	public abstract void setProfitCenter(String profitCenter);
+	public abstract boolean isProdIdNull();
+	public abstract int getProdId();
+	public abstract void setProdId(int prodId);
+	public abstract void setProdIdNull();
+	public abstract boolean isGsnNull();
+	public abstract String getGsn();
+	public abstract void setGsn(String gsn);
+	public abstract boolean isCusipNull();
+	public abstract String getCusip();
+	public abstract void setCusip(String cusip);
+	public abstract boolean isProductIsinNumberNull();
+	public abstract String getProductIsinNumber();
+	public abstract void setProductIsinNumber(String productIsinNumber);
+	public abstract boolean isProductHubReferenceNull();
+	public abstract int getProductHubReference();
+	public abstract void setProductHubReference(int productHubReference);
+	public abstract void setProductHubReferenceNull();
+	public abstract boolean isProductCedelNumberNull();
+	public abstract String getProductCedelNumber();
+	public abstract void setProductCedelNumber(String productCedelNumber);
+	public abstract boolean isTransactionBuySellNull();
+	public abstract String getTransactionBuySell();
+	public abstract void setTransactionBuySell(String transactionBuySell);
+	public abstract boolean isTradeDateNull();
+	public abstract String getTradeDate();
+	public abstract void setTradeDate(String tradeDate);
+	public abstract boolean isSettleDateNull();
+	public abstract String getSettleDate();
+	public abstract void setSettleDate(String settleDate);
+	public abstract boolean isTransactionCurrencyNull();
+	public abstract String getTransactionCurrency();
+	public abstract void setTransactionCurrency(String transactionCurrency);
+	public abstract boolean isTransactionQuantityNull();
+	public abstract double getTransactionQuantity();
+	public abstract void setTransactionQuantity(double transactionQuantity);
+	public abstract void setTransactionQuantityNull();
+	public abstract boolean isTransactionStatusNull();
+	public abstract String getTransactionStatus();
+	public abstract void setTransactionStatus(String transactionStatus);
+	public abstract boolean isTransactionActionCodeNull();
+	public abstract String getTransactionActionCode();
+	public abstract void setTransactionActionCode(String transactionActionCode);
+	public abstract boolean isTransactionRefNumberNull();
+	public abstract String getTransactionRefNumber();
+	public abstract void setTransactionRefNumber(String transactionRefNumber);
+	public abstract boolean isMatchTransactionRefNumberNull();
+	public abstract String getMatchTransactionRefNumber();
+	public abstract void setMatchTransactionRefNumber(String matchTransactionRefNumber);
+	public abstract boolean isTransactionPriceNull();
+	public abstract double getTransactionPrice();
+	public abstract void setTransactionPrice(double transactionPrice);
+	public abstract void setTransactionPriceNull();
+	public abstract boolean isTransactionCostCurrencyNull();
+	public abstract String getTransactionCostCurrency();
+	public abstract void setTransactionCostCurrency(String transactionCostCurrency);
+	public abstract boolean isTransactionCostNull();
+	public abstract double getTransactionCost();
+	public abstract void setTransactionCost(double transactionCost);
+	public abstract void setTransactionCostNull();
+	public abstract boolean isTransactionCostBaseNull();
+	public abstract double getTransactionCostBase();
+	public abstract void setTransactionCostBase(double transactionCostBase);
+	public abstract void setTransactionCostBaseNull();
+	public abstract boolean isTransactionPurIntNull();
+	public abstract double getTransactionPurInt();
+	public abstract void setTransactionPurInt(double transactionPurInt);
+	public abstract void setTransactionPurIntNull();
+	public abstract boolean isTransactionPurIntBaseNull();
+	public abstract double getTransactionPurIntBase();
+	public abstract void setTransactionPurIntBase(double transactionPurIntBase);
+	public abstract void setTransactionPurIntBaseNull();
+	public abstract boolean isTransactionSettleCurrencyNull();
+	public abstract String getTransactionSettleCurrency();
+	public abstract void setTransactionSettleCurrency(String transactionSettleCurrency);
+	public abstract boolean isTransactionSettleAmountNull();
+	public abstract double getTransactionSettleAmount();
+	public abstract void setTransactionSettleAmount(double transactionSettleAmount);
+	public abstract void setTransactionSettleAmountNull();
+	public abstract boolean isTransactionSettleBaseAmountNull();
+	public abstract double getTransactionSettleBaseAmount();
+	public abstract void setTransactionSettleBaseAmount(double transactionSettleBaseAmount);
+	public abstract void setTransactionSettleBaseAmountNull();
+	public abstract boolean isTransactionDeductAmountNull();
+	public abstract double getTransactionDeductAmount();
+	public abstract void setTransactionDeductAmount(double transactionDeductAmount);
+	public abstract void setTransactionDeductAmountNull();
+	public abstract boolean isTransactionDeductBaseAmountNull();
+	public abstract double getTransactionDeductBaseAmount();
+	public abstract void setTransactionDeductBaseAmount(double transactionDeductBaseAmount);
+	public abstract void setTransactionDeductBaseAmountNull();
+	public abstract boolean isTransactionOrigFaceValueNull();
+	public abstract double getTransactionOrigFaceValue();
+	public abstract void setTransactionOrigFaceValue(double transactionOrigFaceValue);
+	public abstract void setTransactionOrigFaceValueNull();
+	public abstract boolean isTransactionFactorNull();
+	public abstract String getTransactionFactor();
+	public abstract void setTransactionFactor(String transactionFactor);
+	public abstract boolean isTransactionXferTaxANull();
+	public abstract double getTransactionXferTaxA();
+	public abstract void setTransactionXferTaxA(double transactionXferTaxA);
+	public abstract void setTransactionXferTaxANull();
+	public abstract boolean isTransactionXferTaxBNull();
+	public abstract double getTransactionXferTaxB();
+	public abstract void setTransactionXferTaxB(double transactionXferTaxB);
+	public abstract void setTransactionXferTaxBNull();
+	public abstract boolean isFxRateNull();
+	public abstract double getFxRate();
+	public abstract void setFxRate(double fxRate);
+	public abstract void setFxRateNull();
+	public abstract boolean isTransactionCodeNull();
+	public abstract String getTransactionCode();
+	public abstract void setTransactionCode(String transactionCode);
+	public abstract boolean isMarketCodeNull();
+	public abstract String getMarketCode();
+	public abstract void setMarketCode(String marketCode);
+	public abstract boolean isExdivStatusNull();
+	public abstract String getExdivStatus();
+	public abstract void setExdivStatus(String exdivStatus);
+	public abstract boolean isTransactionCustomerNull();
+	public abstract String getTransactionCustomer();
+	public abstract void setTransactionCustomer(String transactionCustomer);
+	public abstract boolean isCrossAccountIdNull();
+	public abstract String getCrossAccountId();
+	public abstract void setCrossAccountId(String crossAccountId);
+	public abstract boolean isCounterPartyTypeNull();
+	public abstract String getCounterPartyType();
+	public abstract void setCounterPartyType(String counterPartyType);
+	public abstract boolean isBrokerAccountNumberNull();
+	public abstract String getBrokerAccountNumber();
+	public abstract void setBrokerAccountNumber(String brokerAccountNumber);
+	public abstract boolean isBrokerNameNull();
+	public abstract String getBrokerName();
+	public abstract void setBrokerName(String brokerName);
+	public abstract boolean isTransactionOfficeNull();
+	public abstract String getTransactionOffice();
+	public abstract void setTransactionOffice(String transactionOffice);
+	public abstract boolean isClearingAgentNull();
+	public abstract String getClearingAgent();
+	public abstract void setClearingAgent(String clearingAgent);
+	public abstract boolean isTraderNull();
+	public abstract String getTrader();
+	public abstract void setTrader(String trader);
+	public abstract boolean isTransactionExtPriceNull();
+	public abstract double getTransactionExtPrice();
+	public abstract void setTransactionExtPrice(double transactionExtPrice);
+	public abstract void setTransactionExtPriceNull();
+	public abstract boolean isTransactionExecTimeNull();
+	public abstract String getTransactionExecTime();
+	public abstract void setTransactionExecTime(String transactionExecTime);
+	public abstract boolean isTransactionMemoNull();
+	public abstract String getTransactionMemo();
+	public abstract void setTransactionMemo(String transactionMemo);
+	public abstract boolean isTransactionSourceNull();
+	public abstract String getTransactionSource();
+	public abstract void setTransactionSource(String transactionSource);
+	public abstract boolean isTransactionCloseNull();
+	public abstract String getTransactionClose();
+	public abstract void setTransactionClose(String transactionClose);
+	public abstract boolean isTransactionVersionNull();
+	public abstract int getTransactionVersion();
+	public abstract void setTransactionVersion(int transactionVersion);
+	public abstract void setTransactionVersionNull();
+	public abstract boolean isTransactionFactoryNull();
+	public abstract String getTransactionFactory();
+	public abstract void setTransactionFactory(String transactionFactory);
+	public abstract boolean isTransactionIgnoreNull();
+	public abstract String getTransactionIgnore();
+	public abstract void setTransactionIgnore(String transactionIgnore);
+	public abstract boolean isTrail1Null();
+	public abstract String getTrail1();
+	public abstract void setTrail1(String trail1);
+	public abstract boolean isTrail2Null();
+	public abstract String getTrail2();
+	public abstract void setTrail2(String trail2);
+	public abstract boolean isTrail3Null();
+	public abstract String getTrail3();
+	public abstract void setTrail3(String trail3);
+	public abstract boolean isTrail4Null();
+	public abstract String getTrail4();
+	public abstract void setTrail4(String trail4);
+	public abstract boolean isTrail5Null();
+	public abstract String getTrail5();
+	public abstract void setTrail5(String trail5);
+	public abstract boolean isTrail6Null();
+	public abstract String getTrail6();
+	public abstract void setTrail6(String trail6);
+	public abstract boolean isTrail7Null();
+	public abstract String getTrail7();
+	public abstract void setTrail7(String trail7);
+	public abstract boolean isTrail8Null();
+	public abstract String getTrail8();
+	public abstract void setTrail8(String trail8);
+	public abstract boolean isProcessedDateNull();
+	public abstract Timestamp getProcessedDate();
+	public abstract void setProcessedDate(Timestamp processedDate);
+	public abstract boolean isAcmapCodeNull();
+	public abstract String getAcmapCode();
+	public abstract void setAcmapCode(String acmapCode);
+}
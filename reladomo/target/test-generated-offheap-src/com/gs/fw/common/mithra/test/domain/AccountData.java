@@ -0,0 +1,491 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AccountData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private String accountNumber;
+	private String code;
+	private String deskId;
+	private String pnlGroupId;
+	private String trialId;
+	public final boolean isAccountNumberNull()
+	{
+		return this.getAccountNumber() == null;
+	}
+
+	public final boolean isCodeNull()
+	{
+		return this.getCode() == null;
+	}
+
+	public final boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isPnlGroupIdNull()
+	{
+		return this.getPnlGroupId() == null;
+	}
+
+	public boolean isTrialIdNull()
+	{
+		return this.getTrialId() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountNumber);
+		out.writeObject(this.code);
+		out.writeObject(this.deskId);
+		out.writeObject(this.pnlGroupId);
+		out.writeObject(this.trialId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getAccountNumber()
+	{
+		return this.accountNumber;
+	}
+
+	public int zGetAccountNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountNumber);
+	}
+
+	public void setAccountNumber(String value)
+	{
+		this.accountNumber = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	public void setAccountNumberNull()
+	{
+		this.setAccountNumber(null);
+	}
+
+	public String getCode()
+	{
+		return this.code;
+	}
+
+	public int zGetCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(code);
+	}
+
+	public void setCode(String value)
+	{
+		this.code = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	public void setCodeNull()
+	{
+		this.setCode(null);
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public int zGetDeskIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+	}
+
+	public void setDeskId(String value)
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	public void setDeskIdNull()
+	{
+		this.setDeskId(null);
+	}
+
+	public String getPnlGroupId()
+	{
+		return this.pnlGroupId;
+	}
+
+	public int zGetPnlGroupIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(pnlGroupId);
+	}
+
+	public void setPnlGroupId(String value)
+	{
+		this.pnlGroupId = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	public void setPnlGroupIdNull()
+	{
+		this.setPnlGroupId(null);
+	}
+
+	public String getTrialId()
+	{
+		return this.trialId;
+	}
+
+	public int zGetTrialIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trialId);
+	}
+
+	public void setTrialId(String value)
+	{
+		this.trialId = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	public void setTrialIdNull()
+	{
+		this.setTrialId(null);
+	}
+
+	protected void copyInto(AccountData copy, boolean withRelationships)
+	{
+		copy.accountNumber = this.accountNumber;
+		copy.code = this.code;
+		copy.deskId = this.deskId;
+		copy.pnlGroupId = this.pnlGroupId;
+		copy.trialId = this.trialId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[4];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+		this.code = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+		this.pnlGroupId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+		this.trialId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AccountData otherData = (AccountData) other;
+		if (!isAccountNumberNull() ? !getAccountNumber().equals(otherData.getAccountNumber()) : !otherData.isAccountNumberNull())
+		{
+			return false;
+		}
+
+		if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.accountNumber);
+		out.writeObject(this.deskId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getTamsAccount()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setTamsAccount(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public Object getTrial()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setTrial(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getTrialA()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setTrialA(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public Object getTrialB()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[3];
+		}
+
+		return null;
+	}
+
+	public void setTrialB(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[3] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AccountData accountData = (AccountData) newData;
+		this.setCode(accountData.getCode());
+		this.setDeskId(accountData.getDeskId());
+		this.setPnlGroupId(accountData.getPnlGroupId());
+		this.setTrialId(accountData.getTrialId());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AccountData other = (AccountData) newData;
+		if (!isCodeNull() ? !getCode().equals(other.getCode()) : !other.isCodeNull())
+		{
+			return true;
+		}
+
+		if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if (!isPnlGroupIdNull() ? !getPnlGroupId().equals(other.getPnlGroupId()) : !other.isPnlGroupIdNull())
+		{
+			return true;
+		}
+
+		if (!isTrialIdNull() ? !getTrialId().equals(other.getTrialId()) : !other.isTrialIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AccountData copy = new AccountData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AccountData copy = new AccountData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "accountNumber: "+"'"+getAccountNumber()+"'"+ " / ";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.AccountData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AccountFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AccountFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AccountData";
+	}
+}
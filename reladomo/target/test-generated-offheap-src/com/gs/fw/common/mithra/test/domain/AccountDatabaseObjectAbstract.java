@@ -0,0 +1,360 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AccountDatabaseObjectAbstract extends MithraAbstractDatabaseObject implements MithraDatabaseObject, MithraObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ACCT_8_DIG_C,TRIAL_ID,PNLGROUP_ID";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ACCT_8_DIG_C,t0.TRIAL_ID,t0.PNLGROUP_ID";
+	private static final String PK_WITH_ALIAS = "t0.ACCOUNT_NUMBER = ?";
+	private static final String PK_INDEX_COLS = "ACCOUNT_NUMBER";
+	protected AccountDatabaseObjectAbstract()
+	{
+		super("Account", "com.gs.fw.common.mithra.test.domain.AccountFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AccountFinder.getFinderInstance();
+	}
+
+	public static AccountData allocateOnHeapData()
+	{
+		return new AccountData();
+	}
+
+	public static AccountData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AccountData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AccountData data = new AccountData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new FullNonDatedCache(AccountFinder.getPrimaryKeyAttributes(), this, AccountFinder.getImmutableAttributes());
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new PartialNonDatedCache(AccountFinder.getPrimaryKeyAttributes(), this, AccountFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AccountFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AccountFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		AccountData data = (AccountData)object;
+		return data.getDeskId();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAccountData(1, (AccountData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountPkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAccountTableName(((String)source));
+	}
+
+	public String getAccountTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AccountData data = (AccountData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getAccountNumber());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ACCOUNT_NUMBER = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ACCOUNT_NUMBER,t0.ACCT_8_DIG_C,t0.TRIAL_ID,t0.PNLGROUP_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("ACCOUNT_NUMBER");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_8_DIG_C");
+		result.append(",").append(databaseAlias).append(".").append("TRIAL_ID");
+		result.append(",").append(databaseAlias).append(".").append("PNLGROUP_ID");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AccountData inflateAccountData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		AccountData data = inflateAccountPkData(rs, dt, sourceAttribute);
+		inflateNonPkAccountData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public AccountData inflateAccountPkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		AccountData _data = new AccountData();
+		int _pos = 1;
+		_data.setDeskId(sourceAttribute);
+		_data.setAccountNumber(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkAccountData(int _pos, AccountData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			AccountData _data = _datax;
+			_data.setCode(trimString(_rs.getString(_pos++)));
+			_data.setTrialId(trimString(_rs.getString(_pos++)));
+			_data.setPnlGroupId(trimString(_rs.getString(_pos++)));
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "ACCOUNT";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		Account newObject = new Account();
+		newObject.zSetFromAccountData((AccountData) newData);
+		return newObject;
+	}
+
+	public void analyzeChangeForReload(PrimaryKeyIndex fullUniqueIndex, MithraDataObject data, List newDataList, List updatedDataList)
+	{
+		Account object = fullUniqueIndex == null ? null : (Account) fullUniqueIndex.removeUsingUnderlying(data);
+		if (object == null)
+		{
+			newDataList.add(createObject(data));
+		}
+		else
+		{
+			if (object.zChanged(data))
+			{
+				updatedDataList.add(data);
+			}
+		}
+	}
+}
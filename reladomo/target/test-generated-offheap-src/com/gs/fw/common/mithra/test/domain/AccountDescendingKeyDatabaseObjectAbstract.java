@@ -0,0 +1,437 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AccountDescendingKeyDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ACCOUNT_DESCRIPTION,ACCOUNT_OPENING_DATE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ACCOUNT_DESCRIPTION,t0.ACCOUNT_OPENING_DATE";
+	private static final String PK_WITH_ALIAS = "t0.ACCOUNT_ID = ?";
+	private static final String PK_INDEX_COLS = "ACCOUNT_ID";
+	protected AccountDescendingKeyDatabaseObjectAbstract()
+	{
+		super("AccountDescendingKey", "com.gs.fw.common.mithra.test.domain.AccountDescendingKeyFinder",
+			3, 3,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountDescendingKeyFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AccountDescendingKeyFinder.getFinderInstance();
+	}
+
+	public static AccountDescendingKeyData allocateOnHeapData()
+	{
+		return new AccountDescendingKeyData();
+	}
+
+	public static AccountDescendingKeyData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AccountDescendingKeyData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AccountDescendingKeyData data = new AccountDescendingKeyData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(AccountDescendingKeyFinder.getPrimaryKeyAttributes(), this, AccountDescendingKeyFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(AccountDescendingKeyFinder.getPrimaryKeyAttributes(), this, AccountDescendingKeyFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(AccountDescendingKeyFinder.getPrimaryKeyAttributes(), this, AccountDescendingKeyFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(AccountDescendingKeyFinder.getPrimaryKeyAttributes(), this, AccountDescendingKeyFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AccountDescendingKeyFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AccountDescendingKeyFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AccountDescendingKey.zConfigFullTx();
+		}
+		else
+		{
+			AccountDescendingKey.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		ArrayList simulatedSequenceInitValues = new ArrayList(1);
+		Attribute[] primaryKeyAttributes = AccountDescendingKeyFinder.getPrimaryKeyAttributes();
+		SimulatedSequenceInitValues initValues = null;
+		initValues = new SimulatedSequenceInitValues("DecrementingSequence",
+			20, -3, 100000,
+			"com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", false, primaryKeyAttributes[0], primaryKeyAttributes[0].getSourceAttributeType());
+		simulatedSequenceInitValues.add(initValues);
+		return simulatedSequenceInitValues;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		AccountDescendingKeyData data = (AccountDescendingKeyData)object;
+		return data.getDeskId();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountDescendingKeyData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAccountDescendingKeyData(1, (AccountDescendingKeyData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountDescendingKeyPkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAccountDescendingKeyTableName(((String)source));
+	}
+
+	public String getAccountDescendingKeyTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AccountDescendingKeyData data = (AccountDescendingKeyData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getAccountId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ACCOUNT_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ACCOUNT_ID,t0.ACCOUNT_DESCRIPTION,t0.ACCOUNT_OPENING_DATE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias).append(".").append("ACCOUNT_ID");
+		result.append(",").append(databaseAlias).append(".").append("ACCOUNT_DESCRIPTION");
+		result.append(",").append(databaseAlias).append(".").append("ACCOUNT_OPENING_DATE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AccountDescendingKeyData inflateAccountDescendingKeyData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		AccountDescendingKeyData data = inflateAccountDescendingKeyPkData(rs, dt, sourceAttribute);
+		inflateNonPkAccountDescendingKeyData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public AccountDescendingKeyData inflateAccountDescendingKeyPkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		AccountDescendingKeyData _data = new AccountDescendingKeyData();
+		int _pos = 1;
+		_data.setDeskId(sourceAttribute);
+		_data.setAccountId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "accountId");
+		return _data;
+	}
+
+	public void inflateNonPkAccountDescendingKeyData(int _pos, AccountDescendingKeyData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			AccountDescendingKeyData _data = _datax;
+			_data.setAccountDescription(trimString(_rs.getString(_pos++)));
+			Timestamp accountOpeningDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setAccountOpeningDate(accountOpeningDatetimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "ACCT_DSC_KEY";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AccountDescendingKeyData data = (AccountDescendingKeyData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getAccountId());
+		if (data.isAccountDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAccountDescription());
+		}
+
+		if (data.isAccountOpeningDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getAccountOpeningDate(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ACCOUNT_ID,ACCOUNT_DESCRIPTION,ACCOUNT_OPENING_DATE";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		AccountDescendingKey newObject = new AccountDescendingKey();
+		newObject.zSetFromAccountDescendingKeyData((AccountDescendingKeyData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ACCOUNT_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ACCOUNT_ID");
+		return result.toString();
+	}
+}
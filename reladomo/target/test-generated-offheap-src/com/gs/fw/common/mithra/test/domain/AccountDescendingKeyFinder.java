@@ -0,0 +1,669 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AccountDescendingKeyFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("deskId",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AccountDescendingKey";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AccountDescendingKey";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AccountDescendingKey");
+	private static final AccountDescendingKeySingleFinder<AccountDescendingKey, Object, AccountDescendingKey> finder = new AccountDescendingKeySingleFinder<AccountDescendingKey, Object, AccountDescendingKey>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AccountDescendingKeyFinder.AccountDescendingKeyRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("accountDescription");
+		finderMethodMap.addNormalAttributeName("accountOpeningDate");
+		finderMethodMap.addNormalAttributeName("deskId");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return AccountDescendingKeyFinder.zSourceAttributeType;
+	}
+
+	public static AccountDescendingKey findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AccountDescendingKey findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AccountDescendingKeyList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountDescendingKeyList) finder.findMany(operation);
+	}
+
+	public static AccountDescendingKeyList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountDescendingKeyList) finder.findManyBypassCache(operation);
+	}
+
+	private static AccountDescendingKey findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AccountDescendingKey) FinderUtils.findOne(found);
+	}
+
+	public static AccountDescendingKey findByPrimaryKey(long accountId, String deskId)
+	{
+		return finder.findByPrimaryKey(accountId, deskId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AccountDescendingKeyData _castedTargetData = (AccountDescendingKeyData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getAccountId() && _bean.getO1AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static AccountDescendingKey zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AccountDescendingKey) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AccountDescendingKeyRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AccountDescendingKey, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return AccountDescendingKeyFinder.zSourceAttributeType;
+		}
+
+		private LongAttribute<ParentOwnerType> accountId;
+		private StringAttribute<ParentOwnerType> accountDescription;
+		private TimestampAttribute<ParentOwnerType> accountOpeningDate;
+		private StringAttribute<ParentOwnerType> deskId;
+		public AccountDescendingKeyRelatedFinder()
+		{
+			super();
+		}
+
+		public AccountDescendingKeyRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AccountDescendingKeyFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AccountDescendingKeyFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AccountDescendingKeyFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AccountDescendingKeyFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.accountId();
+			attributes[1] = this.accountDescription();
+			attributes[2] = this.accountOpeningDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AccountDescendingKey findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AccountDescendingKeyFinder.findOne(operation, false);
+		}
+
+		public AccountDescendingKey findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AccountDescendingKeyFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AccountDescendingKey> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AccountDescendingKeyList((Operation) operation);
+		}
+
+		public MithraList<? extends AccountDescendingKey> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AccountDescendingKeyList result = (AccountDescendingKeyList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AccountDescendingKey> constructEmptyList()
+		{
+			return new AccountDescendingKeyList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1730478131;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return AccountDescendingKeyFinder.zSourceAttributeType;
+		}
+
+		public LongAttribute<ParentOwnerType> accountId()
+		{
+			LongAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("ACCOUNT_ID","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,true, false) :
+					new MappedLongAttribute(AccountDescendingKeyFinder.accountId(), this.mapper, this.zGetValueSelector());
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountDescription()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountDescription;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCOUNT_DESCRIPTION","","accountDescription",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(AccountDescendingKeyFinder.accountDescription(), this.mapper, this.zGetValueSelector());
+				this.accountDescription = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> accountOpeningDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.accountOpeningDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ACCOUNT_OPENING_DATE","","accountOpeningDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(AccountDescendingKeyFinder.accountOpeningDate(), this.mapper, this.zGetValueSelector());
+				this.accountOpeningDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> deskId()
+		{
+			StringAttribute<ParentOwnerType> result = this.deskId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","deskId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(AccountDescendingKeyFinder.deskId(), this.mapper, this.zGetValueSelector());
+				this.deskId = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return AccountDescendingKeyFinder.deskId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AccountDescendingKeyFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AccountDescendingKeyFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AccountDescendingKeyCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AccountDescendingKeyRelatedFinder<ParentOwnerType, ReturnType, AccountDescendingKeyList, OwnerType>
+	{
+		public AccountDescendingKeyCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AccountDescendingKeyCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AccountDescendingKeyCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountDescendingKeyCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AccountDescendingKeySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AccountDescendingKeyRelatedFinder<ParentOwnerType, ReturnType, AccountDescendingKeyList, OwnerType>
+	implements ToOneFinder
+	{
+		public AccountDescendingKeySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AccountDescendingKeySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AccountDescendingKey other)
+		{
+			return this.accountId().eq(other.getAccountId())
+			.and(this.deskId().eq(other.getDeskId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AccountDescendingKey findByPrimaryKey(long accountId, String deskId)
+		{
+			AccountDescendingKey _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (deskId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(accountId);
+				_bean.setO1(deskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AccountDescendingKey) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.deskId().eq(deskId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AccountDescendingKeySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AccountDescendingKeySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountDescendingKeySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to ACCT_DSC_KEY.ACCOUNT_ID **/
+	public static LongAttribute<AccountDescendingKey> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to ACCT_DSC_KEY.ACCOUNT_DESCRIPTION **/
+	public static StringAttribute<AccountDescendingKey> accountDescription()
+	{
+		return finder.accountDescription();
+	}
+
+	/** maps to ACCT_DSC_KEY.ACCOUNT_OPENING_DATE **/
+	public static TimestampAttribute<AccountDescendingKey> accountOpeningDate()
+	{
+		return finder.accountOpeningDate();
+	}
+
+	public static StringAttribute<AccountDescendingKey> deskId()
+	{
+		return finder.deskId();
+	}
+
+	public static Operation eq(AccountDescendingKey other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountId());
+	}
+
+	public static AccountDescendingKeySingleFinder<AccountDescendingKey, Object, AccountDescendingKey> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, accountId()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AccountDescendingKey");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String deskId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(deskId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> deskIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(deskIdSet, listener);
+	}
+}
@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AccountDescendingKeyListAbstract extends DelegatingList<AccountDescendingKey> implements MithraTransactionalList<AccountDescendingKey>
+{
+	public AccountDescendingKeyListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AccountDescendingKeyListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AccountDescendingKeyListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AccountDescendingKeyListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AccountDescendingKey[] elements()
+	{
+		AccountDescendingKey[] result = new AccountDescendingKey[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AccountDescendingKeyList intersection(AccountDescendingKeyList another)
+	{
+		return (AccountDescendingKeyList)super.intersection(another);
+	}
+
+	public AccountDescendingKey getAccountDescendingKeyAt(int index)
+	{
+		return (AccountDescendingKey)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountDescendingKeyFinder.getMithraObjectPortal();
+	}
+
+	public AccountDescendingKeyList getNonPersistentCopy()
+	{
+		AccountDescendingKeyList result = new AccountDescendingKeyList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AccountDescendingKeyList asAdhoc()
+	{
+		return (AccountDescendingKeyList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AccountDescendingKey> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AccountDescendingKeyList merge(MithraTransactionalList<AccountDescendingKey> incoming, TopLevelMergeOptions<AccountDescendingKey> mergeOptions)
+	{
+		return (AccountDescendingKeyList) super.merge(incoming, mergeOptions);
+	}
+
+	public AccountDescendingKeyList getDetachedCopy()
+	{
+		AccountDescendingKeyList result = new AccountDescendingKeyList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysWithSourceAttribute((SequenceAttribute)AccountDescendingKeyFinder.accountId(), false, "DecrementingSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory");
+	}
+
+	public void setAccountId(long newValue)
+	{
+		zSetLong(AccountDescendingKeyFinder.accountId(), newValue);
+	}
+
+	public void setAccountDescription(String newValue)
+	{
+		zSetString(AccountDescendingKeyFinder.accountDescription(), newValue);
+	}
+
+	public void setAccountOpeningDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountDescendingKeyFinder.accountOpeningDate(), newValue);
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(AccountDescendingKeyFinder.deskId(), newValue);
+	}
+}
@@ -0,0 +1,1311 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AccountFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("deskId",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Account";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Account";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Account");
+	private static final AccountSingleFinder<Account, Object, Account> finder = new AccountSingleFinder<Account, Object, Account>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byAccountNumber = -1;
+	private static int INDEX_byAccountNumber2 = -1;
+	private static int INDEX_byAccountNumberAndCode = -1;
+	private static int INDEX_byAccountNumberAndCode2 = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AccountFinder.AccountRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountNumber");
+		finderMethodMap.addNormalAttributeName("code");
+		finderMethodMap.addNormalAttributeName("trialId");
+		finderMethodMap.addNormalAttributeName("pnlGroupId");
+		finderMethodMap.addNormalAttributeName("deskId");
+		finderMethodMap.addRelationshipName("tamsAccount");
+		finderMethodMap.addRelationshipName("trial");
+		finderMethodMap.addRelationshipName("trialA");
+		finderMethodMap.addRelationshipName("trialB");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = AccountFinder.accountNumber().constructEqualityMapper(TamsAccountFinder.accountNumber());
+			result[1] = TamsAccountFinder.accountNumber().constructEqualityMapper(AccountFinder.accountNumber());
+			result[2] = AccountFinder.deskId().constructEqualityMapper(TamsAccountFinder.deskId());
+			result[3] = TamsAccountFinder.deskId().constructEqualityMapper(AccountFinder.deskId());
+			result[4] = AccountFinder.trialId().constructEqualityMapper(TrialFinder.trialId());
+			result[5] = TrialFinder.trialId().constructEqualityMapper(AccountFinder.trialId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = AccountFinder.deskId().eq("A");
+			result[1] = AccountFinder.deskId().eq("B");
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return AccountFinder.zSourceAttributeType;
+	}
+
+	public static Account findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Account findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AccountList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountList) finder.findMany(operation);
+	}
+
+	public static AccountList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountList) finder.findManyBypassCache(operation);
+	}
+
+	private static Account findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Account) FinderUtils.findOne(found);
+	}
+
+	public static Account findByPrimaryKey(String accountNumber, String deskId)
+	{
+		return finder.findByPrimaryKey(accountNumber, deskId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Account _castedTargetData = (Account) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountNumber()) && _bean.getO2AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static Account findByAccountNumber(String accountNumber, String deskId)
+	{
+		return finder.findByAccountNumber(accountNumber, deskId);
+	}
+
+	private static final RelationshipHashStrategy forAccountNumber = new AccountNumberRhs();
+	private static final class AccountNumberRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Account _castedTargetData = (Account) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountNumber()) && _bean.getO2AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static Account findByAccountNumber2(String accountNumber, String deskId)
+	{
+		return finder.findByAccountNumber2(accountNumber, deskId);
+	}
+
+	private static final RelationshipHashStrategy forAccountNumber2 = new AccountNumber2Rhs();
+	private static final class AccountNumber2Rhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Account _castedTargetData = (Account) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountNumber()) && _bean.getO2AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static Account findByAccountNumberAndCode(String accountNumber, String code, String deskId)
+	{
+		return finder.findByAccountNumberAndCode(accountNumber, code, deskId);
+	}
+
+	private static final RelationshipHashStrategy forAccountNumberAndCode = new AccountNumberAndCodeRhs();
+	private static final class AccountNumberAndCodeRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Account _castedTargetData = (Account) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountNumber()) && _bean.getO2AsString().equals(_castedTargetData.getCode()) && _bean.getO3AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.offHeapHash(_bean.getO3AsString()));
+		}
+	}
+
+	public static Account findByAccountNumberAndCode2(String code, String accountNumber, String deskId)
+	{
+		return finder.findByAccountNumberAndCode2(code, accountNumber, deskId);
+	}
+
+	private static final RelationshipHashStrategy forAccountNumberAndCode2 = new AccountNumberAndCode2Rhs();
+	private static final class AccountNumberAndCode2Rhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Account _castedTargetData = (Account) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getCode()) && _bean.getO2AsString().equals(_castedTargetData.getAccountNumber()) && _bean.getO3AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.offHeapHash(_bean.getO3AsString()));
+		}
+	}
+
+	public static Account zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Account) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AccountRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Account, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements AccountInterfaceFinder<Account>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return AccountFinder.zSourceAttributeType;
+		}
+
+		private StringAttribute<ParentOwnerType> accountNumber;
+		private StringAttribute<ParentOwnerType> code;
+		private StringAttribute<ParentOwnerType> trialId;
+		private StringAttribute<ParentOwnerType> pnlGroupId;
+		private AccountTamsAccountFinderSubclass<ParentOwnerType> tamsAccount;
+		private AccountTrialFinderSubclass<ParentOwnerType> trial;
+		private AccountTrialAFinderSubclass<ParentOwnerType> trialA;
+		private AccountTrialBFinderSubclass<ParentOwnerType> trialB;
+		private StringAttribute<ParentOwnerType> deskId;
+		public AccountRelatedFinder()
+		{
+			super();
+		}
+
+		public AccountRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AccountFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AccountFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AccountFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AccountFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.accountNumber();
+			attributes[1] = this.code();
+			attributes[2] = this.trialId();
+			attributes[3] = this.pnlGroupId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(4);
+				relatedFinders.add(this.tamsAccount());
+				relatedFinders.add(this.trial());
+				relatedFinders.add(this.trialA());
+				relatedFinders.add(this.trialB());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Account findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AccountFinder.findOne(operation, false);
+		}
+
+		public Account findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AccountFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Account> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AccountList((Operation) operation);
+		}
+
+		public MithraList<? extends Account> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AccountList result = (AccountList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Account> constructEmptyList()
+		{
+			return new AccountList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1113563812;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return AccountFinder.zSourceAttributeType;
+		}
+
+		public StringAttribute<ParentOwnerType> accountNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCOUNT_NUMBER","","accountNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(AccountFinder.accountNumber(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("tamsAccount");
+				this.accountNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> code()
+		{
+			StringAttribute<ParentOwnerType> result = this.code;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_8_DIG_C","","code",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(AccountFinder.code(), this.mapper, this.zGetValueSelector());
+				this.code = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trialId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trialId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRIAL_ID","","trialId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(AccountFinder.trialId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("trial");
+				this.trialId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> pnlGroupId()
+		{
+			StringAttribute<ParentOwnerType> result = this.pnlGroupId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PNLGROUP_ID","","pnlGroupId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(AccountFinder.pnlGroupId(), this.mapper, this.zGetValueSelector());
+				this.pnlGroupId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> deskId()
+		{
+			StringAttribute<ParentOwnerType> result = this.deskId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","deskId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(AccountFinder.deskId(), this.mapper, this.zGetValueSelector());
+				this.deskId = result;
+			}
+
+			return result;
+		}
+
+		public TamsAccountFinder.TamsAccountSingleFinderForRelatedClasses<ParentOwnerType, TamsAccount, Account> tamsAccount()
+		{
+			AccountTamsAccountFinderSubclass<ParentOwnerType> result = this.tamsAccount;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AccountFinder.zGetAccountTamsAccountReverseMapper());
+				newMapper.setToMany(false);
+				result = new AccountTamsAccountFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.tamsAccount = result;
+			}
+
+			return result;
+		}
+
+		public TrialFinder.TrialSingleFinderForRelatedClasses<ParentOwnerType, Trial, Account> trial()
+		{
+			AccountTrialFinderSubclass<ParentOwnerType> result = this.trial;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AccountFinder.zGetAccountTrialReverseMapper());
+				newMapper.setToMany(false);
+				result = new AccountTrialFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.trial = result;
+			}
+
+			return result;
+		}
+
+		public TrialFinder.TrialSingleFinderForRelatedClasses<ParentOwnerType, Trial, Account> trialA()
+		{
+			AccountTrialAFinderSubclass<ParentOwnerType> result = this.trialA;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TrialFinder.zGetTrialAccountsFromAMapper());
+				newMapper.setToMany(false);
+				result = new AccountTrialAFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.trialA = result;
+			}
+
+			return result;
+		}
+
+		public TrialFinder.TrialSingleFinderForRelatedClasses<ParentOwnerType, Trial, Account> trialB()
+		{
+			AccountTrialBFinderSubclass<ParentOwnerType> result = this.trialB;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TrialFinder.zGetTrialAccountsFromBMapper());
+				newMapper.setToMany(false);
+				result = new AccountTrialBFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.trialB = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return AccountFinder.deskId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AccountFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AccountFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AccountCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AccountRelatedFinder<ParentOwnerType, ReturnType, AccountList, OwnerType>
+	{
+		public AccountCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AccountCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AccountCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AccountSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AccountRelatedFinder<ParentOwnerType, ReturnType, AccountList, OwnerType>
+	implements ToOneFinder
+	{
+		public AccountSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AccountSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Account other)
+		{
+			return this.accountNumber().eq(other.getAccountNumber())
+			.and(this.deskId().eq(other.getDeskId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Account findByPrimaryKey(String accountNumber, String deskId)
+		{
+			Account _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountNumber != null && deskId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountNumber);
+				_bean.setO2(deskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Account) _related;
+			if (_related == null)
+			{
+				_op = this.accountNumber().eq(accountNumber).and(this.deskId().eq(deskId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Account findByAccountNumber(String accountNumber, String deskId)
+		{
+			return this.findByPrimaryKey(accountNumber, deskId);
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Account findByAccountNumber2(String accountNumber, String deskId)
+		{
+			return this.findByPrimaryKey(accountNumber, deskId);
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Account findByAccountNumberAndCode(String accountNumber, String code, String deskId)
+		{
+			Account _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountNumber != null && code != null && deskId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountNumber);
+				_bean.setO2(code);
+				_bean.setO3(deskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forAccountNumberAndCode, null, null, AccountFinder.zGetIndexbyAccountNumberAndCodeRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Account) _related;
+			if (_related == null)
+			{
+				_op = this.accountNumber().eq(accountNumber).and(this.code().eq(code)).and(this.deskId().eq(deskId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Account findByAccountNumberAndCode2(String code, String accountNumber, String deskId)
+		{
+			return this.findByAccountNumberAndCode(accountNumber, code, deskId);
+		}
+	}
+
+	public static abstract class AccountSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AccountSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper tamsAccountReverseMapper = null;
+	public static Mapper zGetAccountTamsAccountReverseMapper()
+	{
+		if (tamsAccountReverseMapper == null)
+		{
+			tamsAccountReverseMapper = zConstructAccountTamsAccountReverseMapper();
+		}
+
+		return tamsAccountReverseMapper;
+	}
+
+	private static Mapper tamsAccountMapper = null;
+	public static Mapper zGetAccountTamsAccountMapper()
+	{
+		if (tamsAccountMapper == null)
+		{
+			tamsAccountMapper = zConstructAccountTamsAccountMapper();
+		}
+
+		return tamsAccountMapper;
+	}
+
+	private static Mapper tamsAccountPureReverseMapper = null;
+	public static Mapper zGetAccountTamsAccountPureReverseMapper()
+	{
+		if (tamsAccountPureReverseMapper == null)
+		{
+			tamsAccountPureReverseMapper = zConstructAccountTamsAccountPureReverseMapper();
+		}
+
+		return tamsAccountPureReverseMapper;
+	}
+
+	private static Mapper zConstructAccountTamsAccountPureReverseMapper()
+	{
+		InternalList tamsAccountMapperMapperList = new InternalList(2);
+		tamsAccountMapperMapperList.add(AccountFinder.zGetConstantJoin(0));
+		tamsAccountMapperMapperList.add(AccountFinder.zGetConstantJoin(2));
+		Mapper tamsAccountMapper = new MultiEqualityMapper(tamsAccountMapperMapperList);
+		tamsAccountMapper.setName("tamsAccount");
+		return tamsAccountMapper;
+	}
+
+	private static Mapper zConstructAccountTamsAccountReverseMapper()
+	{
+		InternalList tamsAccountMapperMapperList = new InternalList(2);
+		tamsAccountMapperMapperList.add(AccountFinder.zGetConstantJoin(0));
+		tamsAccountMapperMapperList.add(AccountFinder.zGetConstantJoin(2));
+		Mapper tamsAccountMapper = new MultiEqualityMapper(tamsAccountMapperMapperList);
+		tamsAccountMapper.setName("tamsAccount");
+		return tamsAccountMapper;
+	}
+
+	private static Mapper zConstructAccountTamsAccountMapper()
+	{
+		InternalList tamsAccountMapperMapperList = new InternalList(2);
+		tamsAccountMapperMapperList.add(AccountFinder.zGetConstantJoin(1));
+		tamsAccountMapperMapperList.add(AccountFinder.zGetConstantJoin(3));
+		Mapper tamsAccountMapper = new MultiEqualityMapper(tamsAccountMapperMapperList);
+		tamsAccountMapper.setName("tamsAccount_Reverse");
+		return tamsAccountMapper;
+	}
+
+	private static Mapper trialReverseMapper = null;
+	public static Mapper zGetAccountTrialReverseMapper()
+	{
+		if (trialReverseMapper == null)
+		{
+			trialReverseMapper = zConstructAccountTrialReverseMapper();
+		}
+
+		return trialReverseMapper;
+	}
+
+	private static Mapper trialMapper = null;
+	public static Mapper zGetAccountTrialMapper()
+	{
+		if (trialMapper == null)
+		{
+			trialMapper = zConstructAccountTrialMapper();
+		}
+
+		return trialMapper;
+	}
+
+	private static Mapper trialPureReverseMapper = null;
+	public static Mapper zGetAccountTrialPureReverseMapper()
+	{
+		if (trialPureReverseMapper == null)
+		{
+			trialPureReverseMapper = zConstructAccountTrialPureReverseMapper();
+		}
+
+		return trialPureReverseMapper;
+	}
+
+	private static Mapper zConstructAccountTrialPureReverseMapper()
+	{
+		Mapper trialMapper = AccountFinder.zGetConstantJoin(4);
+		trialMapper.setName("trial");
+		return trialMapper;
+	}
+
+	private static Mapper zConstructAccountTrialReverseMapper()
+	{
+		Mapper trialMapper = AccountFinder.zGetConstantJoin(4);
+		trialMapper.setName("trial");
+		return trialMapper;
+	}
+
+	private static Mapper zConstructAccountTrialMapper()
+	{
+		Mapper trialMapper = TrialFinder.zGetConstantJoin(2);
+		trialMapper.setName("trial_Reverse");
+		return trialMapper;
+	}
+
+	/** maps to ACCOUNT.ACCOUNT_NUMBER **/
+	public static StringAttribute<Account> accountNumber()
+	{
+		return finder.accountNumber();
+	}
+
+	/** maps to ACCOUNT.ACCT_8_DIG_C **/
+	public static StringAttribute<Account> code()
+	{
+		return finder.code();
+	}
+
+	/** maps to ACCOUNT.TRIAL_ID **/
+	public static StringAttribute<Account> trialId()
+	{
+		return finder.trialId();
+	}
+
+	/** maps to ACCOUNT.PNLGROUP_ID **/
+	public static StringAttribute<Account> pnlGroupId()
+	{
+		return finder.pnlGroupId();
+	}
+
+	public static StringAttribute<Account> deskId()
+	{
+		return finder.deskId();
+	}
+
+	public static TamsAccountFinder.TamsAccountSingleFinderForRelatedClasses<Account, TamsAccount, Account> tamsAccount()
+	{
+		return finder.tamsAccount();
+	}
+
+	public static class AccountTamsAccountFinderSubclass<ParentOwnerType> extends TamsAccountFinder.TamsAccountSingleFinderForRelatedClasses<ParentOwnerType, TamsAccount, Account>
+	{
+		public AccountTamsAccountFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "tamsAccount";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TamsAccountFinder.accountNumber(),
+				TamsAccountFinder.deskId(),
+				TamsAccountFinder.businessDate(),
+				TamsAccountFinder.processingDate()).withExtractors(
+				AccountFinder.accountNumber(),
+				AccountFinder.deskId(),
+				((OperationWithParameterExtractor)TamsAccountFinder.businessDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor(),
+				((OperationWithParameterExtractor)TamsAccountFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AccountTamsAccountFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TamsAccount plainValueOf(Account _obj)
+		{
+			return _obj.getTamsAccount();
+		}
+
+		protected TamsAccountList plainListValueOf(Object _obj)
+		{
+			return ((AccountList)_obj).getTamsAccounts();
+		}
+	}
+
+	public static TrialFinder.TrialSingleFinderForRelatedClasses<Account, Trial, Account> trial()
+	{
+		return finder.trial();
+	}
+
+	public static class AccountTrialFinderSubclass<ParentOwnerType> extends TrialFinder.TrialSingleFinderForRelatedClasses<ParentOwnerType, Trial, Account>
+	{
+		public AccountTrialFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "trial";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AccountTrialFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Trial plainValueOf(Account _obj)
+		{
+			return _obj.getTrial();
+		}
+
+		protected TrialList plainListValueOf(Object _obj)
+		{
+			return ((AccountList)_obj).getTrials();
+		}
+	}
+
+	public static TrialFinder.TrialSingleFinderForRelatedClasses<Account, Trial, Account> trialA()
+	{
+		return finder.trialA();
+	}
+
+	public static class AccountTrialAFinderSubclass<ParentOwnerType> extends TrialFinder.TrialSingleFinderForRelatedClasses<ParentOwnerType, Trial, Account>
+	{
+		public AccountTrialAFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "trialA";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AccountTrialAFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Trial plainValueOf(Account _obj)
+		{
+			return _obj.getTrialA();
+		}
+
+		protected TrialList plainListValueOf(Object _obj)
+		{
+			return ((AccountList)_obj).getTrialAs();
+		}
+	}
+
+	public static TrialFinder.TrialSingleFinderForRelatedClasses<Account, Trial, Account> trialB()
+	{
+		return finder.trialB();
+	}
+
+	public static class AccountTrialBFinderSubclass<ParentOwnerType> extends TrialFinder.TrialSingleFinderForRelatedClasses<ParentOwnerType, Trial, Account>
+	{
+		public AccountTrialBFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "trialB";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AccountTrialBFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Trial plainValueOf(Account _obj)
+		{
+			return _obj.getTrialB();
+		}
+
+		protected TrialList plainListValueOf(Object _obj)
+		{
+			return ((AccountList)_obj).getTrialBs();
+		}
+	}
+
+	public static Operation eq(Account other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountNumber());
+	}
+
+	public static AccountSingleFinder<Account, Object, Account> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountNumber()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountNumber()
+			, accountNumber()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_byAccountNumber = cache.addUniqueIndex("byAccountNumber", new Attribute[] 
+		{
+			accountNumber()
+			, deskId()
+		}
+
+		);
+		INDEX_byAccountNumber2 = cache.addUniqueIndex("byAccountNumber2", new Attribute[] 
+		{
+			accountNumber()
+			, deskId()
+		}
+
+		);
+		INDEX_byAccountNumberAndCode = cache.addUniqueIndex("byAccountNumberAndCode", new Attribute[] 
+		{
+			accountNumber()
+			, code()
+			, deskId()
+		}
+
+		);
+		INDEX_byAccountNumberAndCode2 = cache.addUniqueIndex("byAccountNumberAndCode2", new Attribute[] 
+		{
+			code()
+			, accountNumber()
+			, deskId()
+		}
+
+		);
+		cache.addIndex("4 Index", new Attribute[] 
+		{
+			trialId()
+		}
+
+		);
+		cache.addIndex("5 Index", new Attribute[] 
+		{
+			deskId()
+			, trialId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyAccountNumberRef() 
+	{
+		return INDEX_byAccountNumber; 
+	}
+
+	public static int zGetIndexbyAccountNumber2Ref() 
+	{
+		return INDEX_byAccountNumber2; 
+	}
+
+	public static int zGetIndexbyAccountNumberAndCodeRef() 
+	{
+		return INDEX_byAccountNumberAndCode; 
+	}
+
+	public static int zGetIndexbyAccountNumberAndCode2Ref() 
+	{
+		return INDEX_byAccountNumberAndCode2; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TrialFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TrialFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Account");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String deskId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(deskId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> deskIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(deskIdSet, listener);
+	}
+}
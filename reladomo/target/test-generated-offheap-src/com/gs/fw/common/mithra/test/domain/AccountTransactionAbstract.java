@@ -0,0 +1,327 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AccountTransactionAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AccountTransaction.class.getName());
+	public AccountTransactionAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AccountTransaction getDetachedCopy() throws MithraBusinessException
+	{
+		return (AccountTransaction) super.getDetachedCopy();
+	}
+
+	public AccountTransaction getNonPersistentCopy() throws MithraBusinessException
+	{
+		AccountTransaction result = (AccountTransaction) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public AccountTransaction copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AccountTransaction) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AccountTransaction zFindOriginal()
+	{
+		AccountTransactionData data = (AccountTransactionData) this.currentData;
+		Operation op;
+		op = AccountTransactionFinder.transactionId().eq(data.getTransactionId());
+		op = op.and(AccountTransactionFinder.deskId().eq(data.getDeskId()));
+		return AccountTransactionFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AccountTransactionData();
+	}
+
+	protected void zSetFromAccountTransactionData( AccountTransactionData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAccountTransactionData( AccountTransactionData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public final boolean isDeskIdNull()
+	{
+		return ((AccountTransactionData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public final String getDeskId()
+	{
+		AccountTransactionData data = (AccountTransactionData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(AccountTransactionFinder.deskId(), newValue, false, false );
+	}
+
+	public boolean isTransactionDateNull()
+	{
+		return ((AccountTransactionData) this.zSynchronizedGetData()).isTransactionDateNull();
+	}
+
+	public Timestamp getTransactionDate()
+	{
+		AccountTransactionData data = (AccountTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionDate();
+	}
+
+	public void setTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionFinder.transactionDate(), newValue, false, false );
+	}
+
+	public final boolean isTransactionDescriptionNull()
+	{
+		return ((AccountTransactionData) this.zSynchronizedGetData()).isTransactionDescriptionNull();
+	}
+
+	public final String getTransactionDescription()
+	{
+		AccountTransactionData data = (AccountTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionDescription();
+	}
+
+	public void setTransactionDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'transactionDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(AccountTransactionFinder.transactionDescription(), newValue, false, false );
+	}
+
+	public final boolean isTransactionIdNull()
+	{
+		return ((AccountTransactionData) this.zSynchronizedGetData()).isTransactionIdNull();
+	}
+
+	public final int getTransactionId()
+	{
+		AccountTransactionData data = (AccountTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionId();
+	}
+
+	public void setTransactionId(int newValue)
+	{
+		zSetInteger(AccountTransactionFinder.transactionId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AccountTransactionData _newData = (AccountTransactionData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AccountTransactionData _newData = (AccountTransactionData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionData _newData = (AccountTransactionData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AccountTransaction zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		AccountTransaction original = (AccountTransaction) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AccountTransactionFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AccountTransactionFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransaction getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, AccountTransactionFinder.transactionDate(), false);
+		changed |= zUpdateString(behavior, data, newData, AccountTransactionFinder.transactionDescription(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AccountTransactionFinder.deskId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AccountTransactionFinder.transactionId(), false);
+		return changed;
+	}
+
+	public int generateAndSetTransactionId()
+	{
+		int nextValue =(int) this.generateTransactionId();
+		this.setTransactionId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsTransactionIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AccountTransactionData data = (AccountTransactionData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsTransactionIdSet();
+	}
+
+	protected int generateTransactionId()
+	{
+		Object sourceAttribute = this.getDeskId();
+		AccountTransactionFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("AccountTransactionSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (int)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionData data = (AccountTransactionData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsTransactionIdSet())
+		{
+			data.setTransactionId(generateTransactionId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AccountTransactionAbstract result = (AccountTransactionAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
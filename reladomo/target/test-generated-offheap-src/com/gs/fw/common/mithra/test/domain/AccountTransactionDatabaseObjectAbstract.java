@@ -0,0 +1,437 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AccountTransactionDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "TRANSACTION_DESCRIPTION,TRANSACTION_DATE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.TRANSACTION_DESCRIPTION,t0.TRANSACTION_DATE";
+	private static final String PK_WITH_ALIAS = "t0.TRANSACTION_ID = ?";
+	private static final String PK_INDEX_COLS = "TRANSACTION_ID";
+	protected AccountTransactionDatabaseObjectAbstract()
+	{
+		super("AccountTransaction", "com.gs.fw.common.mithra.test.domain.AccountTransactionFinder",
+			3, 3,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountTransactionFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AccountTransactionFinder.getFinderInstance();
+	}
+
+	public static AccountTransactionData allocateOnHeapData()
+	{
+		return new AccountTransactionData();
+	}
+
+	public static AccountTransactionData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AccountTransactionData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AccountTransactionData data = new AccountTransactionData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(AccountTransactionFinder.getPrimaryKeyAttributes(), this, AccountTransactionFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(AccountTransactionFinder.getPrimaryKeyAttributes(), this, AccountTransactionFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(AccountTransactionFinder.getPrimaryKeyAttributes(), this, AccountTransactionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(AccountTransactionFinder.getPrimaryKeyAttributes(), this, AccountTransactionFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AccountTransactionFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AccountTransactionFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AccountTransaction.zConfigFullTx();
+		}
+		else
+		{
+			AccountTransaction.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		ArrayList simulatedSequenceInitValues = new ArrayList(1);
+		Attribute[] primaryKeyAttributes = AccountTransactionFinder.getPrimaryKeyAttributes();
+		SimulatedSequenceInitValues initValues = null;
+		initValues = new SimulatedSequenceInitValues("AccountTransactionSequence",
+			10, 1, 1,
+			"com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", false, primaryKeyAttributes[0], primaryKeyAttributes[0].getSourceAttributeType());
+		simulatedSequenceInitValues.add(initValues);
+		return simulatedSequenceInitValues;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		AccountTransactionData data = (AccountTransactionData)object;
+		return data.getDeskId();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountTransactionData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAccountTransactionData(1, (AccountTransactionData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountTransactionPkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAccountTransactionTableName(((String)source));
+	}
+
+	public String getAccountTransactionTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AccountTransactionData data = (AccountTransactionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTransactionId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "TRANSACTION_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TRANSACTION_ID,t0.TRANSACTION_DESCRIPTION,t0.TRANSACTION_DATE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias).append(".").append("TRANSACTION_ID");
+		result.append(",").append(databaseAlias).append(".").append("TRANSACTION_DESCRIPTION");
+		result.append(",").append(databaseAlias).append(".").append("TRANSACTION_DATE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AccountTransactionData inflateAccountTransactionData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		AccountTransactionData data = inflateAccountTransactionPkData(rs, dt, sourceAttribute);
+		inflateNonPkAccountTransactionData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public AccountTransactionData inflateAccountTransactionPkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		AccountTransactionData _data = new AccountTransactionData();
+		int _pos = 1;
+		_data.setDeskId(sourceAttribute);
+		_data.setTransactionId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "transactionId");
+		return _data;
+	}
+
+	public void inflateNonPkAccountTransactionData(int _pos, AccountTransactionData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			AccountTransactionData _data = _datax;
+			_data.setTransactionDescription(trimString(_rs.getString(_pos++)));
+			Timestamp transactionDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setTransactionDate(transactionDatetimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "ACCOUNT_TRANSACTION";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AccountTransactionData data = (AccountTransactionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTransactionId());
+		if (data.isTransactionDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionDescription());
+		}
+
+		if (data.isTransactionDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getTransactionDate(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "TRANSACTION_ID,TRANSACTION_DESCRIPTION,TRANSACTION_DATE";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		AccountTransaction newObject = new AccountTransaction();
+		newObject.zSetFromAccountTransactionData((AccountTransactionData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TRANSACTION_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("TRANSACTION_ID");
+		return result.toString();
+	}
+}
@@ -0,0 +1,327 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AccountTransactionExceptionAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AccountTransactionException.class.getName());
+	public AccountTransactionExceptionAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AccountTransactionException getDetachedCopy() throws MithraBusinessException
+	{
+		return (AccountTransactionException) super.getDetachedCopy();
+	}
+
+	public AccountTransactionException getNonPersistentCopy() throws MithraBusinessException
+	{
+		AccountTransactionException result = (AccountTransactionException) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public AccountTransactionException copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AccountTransactionException) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AccountTransactionException zFindOriginal()
+	{
+		AccountTransactionExceptionData data = (AccountTransactionExceptionData) this.currentData;
+		Operation op;
+		op = AccountTransactionExceptionFinder.exceptionId().eq(data.getExceptionId());
+		op = op.and(AccountTransactionExceptionFinder.deskId().eq(data.getDeskId()));
+		return AccountTransactionExceptionFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AccountTransactionExceptionData();
+	}
+
+	protected void zSetFromAccountTransactionExceptionData( AccountTransactionExceptionData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAccountTransactionExceptionData( AccountTransactionExceptionData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((AccountTransactionExceptionData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		AccountTransactionExceptionData data = (AccountTransactionExceptionData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(AccountTransactionExceptionFinder.deskId(), newValue, false, false );
+	}
+
+	public boolean isExceptionDateNull()
+	{
+		return ((AccountTransactionExceptionData) this.zSynchronizedGetData()).isExceptionDateNull();
+	}
+
+	public Timestamp getExceptionDate()
+	{
+		AccountTransactionExceptionData data = (AccountTransactionExceptionData) this.zSynchronizedGetData();
+		return data.getExceptionDate();
+	}
+
+	public void setExceptionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionExceptionFinder.exceptionDate(), newValue, false, false );
+	}
+
+	public boolean isExceptionDescriptionNull()
+	{
+		return ((AccountTransactionExceptionData) this.zSynchronizedGetData()).isExceptionDescriptionNull();
+	}
+
+	public String getExceptionDescription()
+	{
+		AccountTransactionExceptionData data = (AccountTransactionExceptionData) this.zSynchronizedGetData();
+		return data.getExceptionDescription();
+	}
+
+	public void setExceptionDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'exceptionDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(AccountTransactionExceptionFinder.exceptionDescription(), newValue, false, false );
+	}
+
+	public boolean isExceptionIdNull()
+	{
+		return ((AccountTransactionExceptionData) this.zSynchronizedGetData()).isExceptionIdNull();
+	}
+
+	public long getExceptionId()
+	{
+		AccountTransactionExceptionData data = (AccountTransactionExceptionData) this.zSynchronizedGetData();
+		return data.getExceptionId();
+	}
+
+	public void setExceptionId(long newValue)
+	{
+		zSetLong(AccountTransactionExceptionFinder.exceptionId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AccountTransactionExceptionData _newData = (AccountTransactionExceptionData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AccountTransactionExceptionData _newData = (AccountTransactionExceptionData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionExceptionData _newData = (AccountTransactionExceptionData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AccountTransactionException zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		AccountTransactionException original = (AccountTransactionException) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AccountTransactionExceptionFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AccountTransactionExceptionFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransactionException getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, AccountTransactionExceptionFinder.exceptionDate(), false);
+		changed |= zUpdateString(behavior, data, newData, AccountTransactionExceptionFinder.exceptionDescription(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AccountTransactionExceptionFinder.deskId(), false);
+		changed |= zUpdateLong(behavior, data, newData, AccountTransactionExceptionFinder.exceptionId(), false);
+		return changed;
+	}
+
+	public long generateAndSetExceptionId()
+	{
+		long nextValue =(long) this.generateExceptionId();
+		this.setExceptionId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsExceptionIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AccountTransactionExceptionData data = (AccountTransactionExceptionData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsExceptionIdSet();
+	}
+
+	protected long generateExceptionId()
+	{
+		Object sourceAttribute = this.getDeskId();
+		AccountTransactionExceptionFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGenerator("AccountTransactionExceptionSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionExceptionData data = (AccountTransactionExceptionData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsExceptionIdSet())
+		{
+			data.setExceptionId(generateExceptionId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AccountTransactionExceptionAbstract result = (AccountTransactionExceptionAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,355 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AccountTransactionExceptionData
+implements MithraDataObject
+{
+	private String deskId;
+	private Timestamp exceptionDate;
+	private String exceptionDescription;
+	private long exceptionId;
+	public boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isExceptionDateNull()
+	{
+		return this.getExceptionDate() == null;
+	}
+
+	public boolean isExceptionDescriptionNull()
+	{
+		return this.getExceptionDescription() == null;
+	}
+
+	public boolean isExceptionIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.deskId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.exceptionDate);
+		out.writeObject(this.exceptionDescription);
+		out.writeLong(this.exceptionId);
+		out.writeBoolean(_isExceptionIdSet);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public int zGetDeskIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+	}
+
+	public void setDeskId(String value)
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, AccountTransactionExceptionFinder.isFullCache());
+	}
+
+	public void setDeskIdNull()
+	{
+		this.setDeskId(null);
+	}
+
+	public Timestamp getExceptionDate()
+	{
+		return this.exceptionDate;
+	}
+
+	public long zGetExceptionDateAsLong()
+	{
+		if (exceptionDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return exceptionDate.getTime();
+	}
+
+	public void setExceptionDate(Timestamp value)
+	{
+		this.exceptionDate = TimestampPool.getInstance().getOrAddToCache(value, AccountTransactionExceptionFinder.isFullCache(), AccountTransactionExceptionFinder.isOffHeap());
+	}
+
+	public void setExceptionDateNull()
+	{
+		this.setExceptionDate(null);
+	}
+
+	public String getExceptionDescription()
+	{
+		return this.exceptionDescription;
+	}
+
+	public int zGetExceptionDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(exceptionDescription);
+	}
+
+	public void setExceptionDescription(String value)
+	{
+		this.exceptionDescription = StringPool.getInstance().getOrAddToCache(value, AccountTransactionExceptionFinder.isFullCache());
+	}
+
+	public void setExceptionDescriptionNull()
+	{
+		this.setExceptionDescription(null);
+	}
+
+	public long getExceptionId()
+	{
+		return this.exceptionId;
+	}
+
+	public void setExceptionId(long value)
+	{
+		this.exceptionId = value;
+		_isExceptionIdSet = true;
+	}
+
+	public void setExceptionIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean _isExceptionIdSet;
+	public boolean zGetIsExceptionIdSet()
+	{
+		return _isExceptionIdSet;
+	}
+
+	protected void copyInto(AccountTransactionExceptionData copy, boolean withRelationships)
+	{
+		copy.deskId = this.deskId;
+		copy.exceptionDate = this.exceptionDate;
+		copy.exceptionDescription = this.exceptionDescription;
+		copy.exceptionId = this.exceptionId;
+		copy._isExceptionIdSet = this._isExceptionIdSet;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountTransactionExceptionFinder.isFullCache());
+		this.exceptionDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AccountTransactionExceptionFinder.isFullCache(), AccountTransactionExceptionFinder.isOffHeap());
+		this.exceptionDescription = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountTransactionExceptionFinder.isFullCache());
+		this.exceptionId = in.readLong();
+		_isExceptionIdSet = in.readBoolean();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AccountTransactionExceptionData otherData = (AccountTransactionExceptionData) other;
+		if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+		{
+			return false;
+		}
+
+		if (getExceptionId() != otherData.getExceptionId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.deskId);
+		out.writeLong(this.exceptionId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountTransactionExceptionFinder.isFullCache());
+		this.exceptionId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AccountTransactionExceptionData accountTransactionExceptionData = (AccountTransactionExceptionData) newData;
+		this.setDeskId(accountTransactionExceptionData.getDeskId());
+		this.setExceptionDate(accountTransactionExceptionData.getExceptionDate());
+		this.setExceptionDescription(accountTransactionExceptionData.getExceptionDescription());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AccountTransactionExceptionData other = (AccountTransactionExceptionData) newData;
+		if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if (!isExceptionDateNull() ? !getExceptionDate().equals(other.getExceptionDate()) : !other.isExceptionDateNull())
+		{
+			return true;
+		}
+
+		if (!isExceptionDescriptionNull() ? !getExceptionDescription().equals(other.getExceptionDescription()) : !other.isExceptionDescriptionNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AccountTransactionExceptionData copy = new AccountTransactionExceptionData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AccountTransactionExceptionData copy = new AccountTransactionExceptionData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		result += "exceptionId: "+(""+getExceptionId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.AccountTransactionExceptionData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AccountTransactionExceptionFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AccountTransactionExceptionFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AccountTransactionExceptionData";
+	}
+}
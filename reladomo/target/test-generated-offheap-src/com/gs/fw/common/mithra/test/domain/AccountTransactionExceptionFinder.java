@@ -0,0 +1,669 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AccountTransactionExceptionFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("deskId",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AccountTransactionException";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AccountTransactionException";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AccountTransactionException");
+	private static final AccountTransactionExceptionSingleFinder<AccountTransactionException, Object, AccountTransactionException> finder = new AccountTransactionExceptionSingleFinder<AccountTransactionException, Object, AccountTransactionException>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AccountTransactionExceptionFinder.AccountTransactionExceptionRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("exceptionId");
+		finderMethodMap.addNormalAttributeName("exceptionDescription");
+		finderMethodMap.addNormalAttributeName("exceptionDate");
+		finderMethodMap.addNormalAttributeName("deskId");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return AccountTransactionExceptionFinder.zSourceAttributeType;
+	}
+
+	public static AccountTransactionException findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AccountTransactionException findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AccountTransactionExceptionList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountTransactionExceptionList) finder.findMany(operation);
+	}
+
+	public static AccountTransactionExceptionList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountTransactionExceptionList) finder.findManyBypassCache(operation);
+	}
+
+	private static AccountTransactionException findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AccountTransactionException) FinderUtils.findOne(found);
+	}
+
+	public static AccountTransactionException findByPrimaryKey(long exceptionId, String deskId)
+	{
+		return finder.findByPrimaryKey(exceptionId, deskId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AccountTransactionExceptionData _castedTargetData = (AccountTransactionExceptionData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getExceptionId() && _bean.getO1AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static AccountTransactionException zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AccountTransactionException) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AccountTransactionExceptionRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AccountTransactionException, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return AccountTransactionExceptionFinder.zSourceAttributeType;
+		}
+
+		private LongAttribute<ParentOwnerType> exceptionId;
+		private StringAttribute<ParentOwnerType> exceptionDescription;
+		private TimestampAttribute<ParentOwnerType> exceptionDate;
+		private StringAttribute<ParentOwnerType> deskId;
+		public AccountTransactionExceptionRelatedFinder()
+		{
+			super();
+		}
+
+		public AccountTransactionExceptionRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AccountTransactionExceptionFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AccountTransactionExceptionFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AccountTransactionExceptionFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AccountTransactionExceptionFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.exceptionId();
+			attributes[1] = this.exceptionDescription();
+			attributes[2] = this.exceptionDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AccountTransactionException findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AccountTransactionExceptionFinder.findOne(operation, false);
+		}
+
+		public AccountTransactionException findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AccountTransactionExceptionFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AccountTransactionException> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AccountTransactionExceptionList((Operation) operation);
+		}
+
+		public MithraList<? extends AccountTransactionException> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AccountTransactionExceptionList result = (AccountTransactionExceptionList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AccountTransactionException> constructEmptyList()
+		{
+			return new AccountTransactionExceptionList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1844583048;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return AccountTransactionExceptionFinder.zSourceAttributeType;
+		}
+
+		public LongAttribute<ParentOwnerType> exceptionId()
+		{
+			LongAttribute<ParentOwnerType> result = this.exceptionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("EXCEPTION_ID","","exceptionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,true, false) :
+					new MappedLongAttribute(AccountTransactionExceptionFinder.exceptionId(), this.mapper, this.zGetValueSelector());
+				this.exceptionId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> exceptionDescription()
+		{
+			StringAttribute<ParentOwnerType> result = this.exceptionDescription;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("EXCEPTION_DESCRIPTION","","exceptionDescription",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(AccountTransactionExceptionFinder.exceptionDescription(), this.mapper, this.zGetValueSelector());
+				this.exceptionDescription = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> exceptionDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.exceptionDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("EXCEPTION_DATE","","exceptionDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(AccountTransactionExceptionFinder.exceptionDate(), this.mapper, this.zGetValueSelector());
+				this.exceptionDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> deskId()
+		{
+			StringAttribute<ParentOwnerType> result = this.deskId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","deskId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(AccountTransactionExceptionFinder.deskId(), this.mapper, this.zGetValueSelector());
+				this.deskId = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return AccountTransactionExceptionFinder.deskId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AccountTransactionExceptionFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AccountTransactionExceptionFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AccountTransactionExceptionCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AccountTransactionExceptionRelatedFinder<ParentOwnerType, ReturnType, AccountTransactionExceptionList, OwnerType>
+	{
+		public AccountTransactionExceptionCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AccountTransactionExceptionCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AccountTransactionExceptionCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountTransactionExceptionCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AccountTransactionExceptionSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AccountTransactionExceptionRelatedFinder<ParentOwnerType, ReturnType, AccountTransactionExceptionList, OwnerType>
+	implements ToOneFinder
+	{
+		public AccountTransactionExceptionSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AccountTransactionExceptionSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AccountTransactionException other)
+		{
+			return this.exceptionId().eq(other.getExceptionId())
+			.and(this.deskId().eq(other.getDeskId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AccountTransactionException findByPrimaryKey(long exceptionId, String deskId)
+		{
+			AccountTransactionException _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (deskId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(exceptionId);
+				_bean.setO1(deskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AccountTransactionException) _related;
+			if (_related == null)
+			{
+				_op = this.exceptionId().eq(exceptionId).and(this.deskId().eq(deskId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AccountTransactionExceptionSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AccountTransactionExceptionSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountTransactionExceptionSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to ACCOUNT_TRANSACTION_EXCEPTION.EXCEPTION_ID **/
+	public static LongAttribute<AccountTransactionException> exceptionId()
+	{
+		return finder.exceptionId();
+	}
+
+	/** maps to ACCOUNT_TRANSACTION_EXCEPTION.EXCEPTION_DESCRIPTION **/
+	public static StringAttribute<AccountTransactionException> exceptionDescription()
+	{
+		return finder.exceptionDescription();
+	}
+
+	/** maps to ACCOUNT_TRANSACTION_EXCEPTION.EXCEPTION_DATE **/
+	public static TimestampAttribute<AccountTransactionException> exceptionDate()
+	{
+		return finder.exceptionDate();
+	}
+
+	public static StringAttribute<AccountTransactionException> deskId()
+	{
+		return finder.deskId();
+	}
+
+	public static Operation eq(AccountTransactionException other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(exceptionId());
+	}
+
+	public static AccountTransactionExceptionSingleFinder<AccountTransactionException, Object, AccountTransactionException> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			exceptionId()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			exceptionId()
+			, exceptionId()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AccountTransactionException");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String deskId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(deskId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> deskIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(deskIdSet, listener);
+	}
+}
@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AccountTransactionExceptionListAbstract extends DelegatingList<AccountTransactionException> implements MithraTransactionalList<AccountTransactionException>
+{
+	public AccountTransactionExceptionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AccountTransactionExceptionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AccountTransactionExceptionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AccountTransactionExceptionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AccountTransactionException[] elements()
+	{
+		AccountTransactionException[] result = new AccountTransactionException[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AccountTransactionExceptionList intersection(AccountTransactionExceptionList another)
+	{
+		return (AccountTransactionExceptionList)super.intersection(another);
+	}
+
+	public AccountTransactionException getAccountTransactionExceptionAt(int index)
+	{
+		return (AccountTransactionException)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountTransactionExceptionFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransactionExceptionList getNonPersistentCopy()
+	{
+		AccountTransactionExceptionList result = new AccountTransactionExceptionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AccountTransactionExceptionList asAdhoc()
+	{
+		return (AccountTransactionExceptionList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AccountTransactionException> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AccountTransactionExceptionList merge(MithraTransactionalList<AccountTransactionException> incoming, TopLevelMergeOptions<AccountTransactionException> mergeOptions)
+	{
+		return (AccountTransactionExceptionList) super.merge(incoming, mergeOptions);
+	}
+
+	public AccountTransactionExceptionList getDetachedCopy()
+	{
+		AccountTransactionExceptionList result = new AccountTransactionExceptionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysWithSourceAttribute((SequenceAttribute)AccountTransactionExceptionFinder.exceptionId(), true, "AccountTransactionExceptionSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory");
+	}
+
+	public void setExceptionId(long newValue)
+	{
+		zSetLong(AccountTransactionExceptionFinder.exceptionId(), newValue);
+	}
+
+	public void setExceptionDescription(String newValue)
+	{
+		zSetString(AccountTransactionExceptionFinder.exceptionDescription(), newValue);
+	}
+
+	public void setExceptionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionExceptionFinder.exceptionDate(), newValue);
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(AccountTransactionExceptionFinder.deskId(), newValue);
+	}
+}
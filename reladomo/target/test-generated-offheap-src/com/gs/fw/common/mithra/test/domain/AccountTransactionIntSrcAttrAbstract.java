@@ -0,0 +1,327 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AccountTransactionIntSrcAttrAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AccountTransactionIntSrcAttr.class.getName());
+	public AccountTransactionIntSrcAttrAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AccountTransactionIntSrcAttr getDetachedCopy() throws MithraBusinessException
+	{
+		return (AccountTransactionIntSrcAttr) super.getDetachedCopy();
+	}
+
+	public AccountTransactionIntSrcAttr getNonPersistentCopy() throws MithraBusinessException
+	{
+		AccountTransactionIntSrcAttr result = (AccountTransactionIntSrcAttr) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public AccountTransactionIntSrcAttr copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AccountTransactionIntSrcAttr) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AccountTransactionIntSrcAttr zFindOriginal()
+	{
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData) this.currentData;
+		Operation op;
+		op = AccountTransactionIntSrcAttrFinder.transactionId().eq(data.getTransactionId());
+		op = op.and(AccountTransactionIntSrcAttrFinder.deskId().eq(data.getDeskId()));
+		return AccountTransactionIntSrcAttrFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AccountTransactionIntSrcAttrData();
+	}
+
+	protected void zSetFromAccountTransactionIntSrcAttrData( AccountTransactionIntSrcAttrData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAccountTransactionIntSrcAttrData( AccountTransactionIntSrcAttrData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((AccountTransactionIntSrcAttrData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public int getDeskId()
+	{
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(int newValue)
+	{
+		zSetInteger(AccountTransactionIntSrcAttrFinder.deskId(), newValue, false, false ,false);
+	}
+
+	public boolean isTransactionDateNull()
+	{
+		return ((AccountTransactionIntSrcAttrData) this.zSynchronizedGetData()).isTransactionDateNull();
+	}
+
+	public Timestamp getTransactionDate()
+	{
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData) this.zSynchronizedGetData();
+		return data.getTransactionDate();
+	}
+
+	public void setTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionIntSrcAttrFinder.transactionDate(), newValue, false, false );
+	}
+
+	public boolean isTransactionDescriptionNull()
+	{
+		return ((AccountTransactionIntSrcAttrData) this.zSynchronizedGetData()).isTransactionDescriptionNull();
+	}
+
+	public String getTransactionDescription()
+	{
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData) this.zSynchronizedGetData();
+		return data.getTransactionDescription();
+	}
+
+	public void setTransactionDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'transactionDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(AccountTransactionIntSrcAttrFinder.transactionDescription(), newValue, false, false );
+	}
+
+	public boolean isTransactionIdNull()
+	{
+		return ((AccountTransactionIntSrcAttrData) this.zSynchronizedGetData()).isTransactionIdNull();
+	}
+
+	public long getTransactionId()
+	{
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData) this.zSynchronizedGetData();
+		return data.getTransactionId();
+	}
+
+	public void setTransactionId(long newValue)
+	{
+		zSetLong(AccountTransactionIntSrcAttrFinder.transactionId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AccountTransactionIntSrcAttrData _newData = (AccountTransactionIntSrcAttrData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AccountTransactionIntSrcAttrData _newData = (AccountTransactionIntSrcAttrData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionIntSrcAttrData _newData = (AccountTransactionIntSrcAttrData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AccountTransactionIntSrcAttr zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		AccountTransactionIntSrcAttr original = (AccountTransactionIntSrcAttr) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AccountTransactionIntSrcAttrFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AccountTransactionIntSrcAttrFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransactionIntSrcAttr getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, AccountTransactionIntSrcAttrFinder.transactionDate(), false);
+		changed |= zUpdateString(behavior, data, newData, AccountTransactionIntSrcAttrFinder.transactionDescription(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AccountTransactionIntSrcAttrFinder.deskId(), false);
+		changed |= zUpdateLong(behavior, data, newData, AccountTransactionIntSrcAttrFinder.transactionId(), false);
+		return changed;
+	}
+
+	public long generateAndSetTransactionId()
+	{
+		long nextValue =(long) this.generateTransactionId();
+		this.setTransactionId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsTransactionIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsTransactionIdSet();
+	}
+
+	protected long generateTransactionId()
+	{
+		Object sourceAttribute = new Integer(this.getDeskId());
+		AccountTransactionIntSrcAttrFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("AccountTransactionSequenceIntSrcAttr", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsTransactionIdSet())
+		{
+			data.setTransactionId(generateTransactionId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AccountTransactionIntSrcAttrAbstract result = (AccountTransactionIntSrcAttrAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,437 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AccountTransactionIntSrcAttrDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private IntSourceConnectionManager connectionManager;
+	private IntSourceSchemaManager schemaManager;
+	private IntSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "TRANSACTION_DESCRIPTION,TRANSACTION_DATE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.TRANSACTION_DESCRIPTION,t0.TRANSACTION_DATE";
+	private static final String PK_WITH_ALIAS = "t0.TRANSACTION_ID = ?";
+	private static final String PK_INDEX_COLS = "TRANSACTION_ID";
+	protected AccountTransactionIntSrcAttrDatabaseObjectAbstract()
+	{
+		super("AccountTransactionIntSrcAttr", "com.gs.fw.common.mithra.test.domain.AccountTransactionIntSrcAttrFinder",
+			3, 3,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountTransactionIntSrcAttrFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AccountTransactionIntSrcAttrFinder.getFinderInstance();
+	}
+
+	public static AccountTransactionIntSrcAttrData allocateOnHeapData()
+	{
+		return new AccountTransactionIntSrcAttrData();
+	}
+
+	public static AccountTransactionIntSrcAttrData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AccountTransactionIntSrcAttrData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AccountTransactionIntSrcAttrData data = new AccountTransactionIntSrcAttrData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(AccountTransactionIntSrcAttrFinder.getPrimaryKeyAttributes(), this, AccountTransactionIntSrcAttrFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(AccountTransactionIntSrcAttrFinder.getPrimaryKeyAttributes(), this, AccountTransactionIntSrcAttrFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(AccountTransactionIntSrcAttrFinder.getPrimaryKeyAttributes(), this, AccountTransactionIntSrcAttrFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(AccountTransactionIntSrcAttrFinder.getPrimaryKeyAttributes(), this, AccountTransactionIntSrcAttrFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AccountTransactionIntSrcAttrFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AccountTransactionIntSrcAttrFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AccountTransactionIntSrcAttr.zConfigFullTx();
+		}
+		else
+		{
+			AccountTransactionIntSrcAttr.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		ArrayList simulatedSequenceInitValues = new ArrayList(1);
+		Attribute[] primaryKeyAttributes = AccountTransactionIntSrcAttrFinder.getPrimaryKeyAttributes();
+		SimulatedSequenceInitValues initValues = null;
+		initValues = new SimulatedSequenceInitValues("AccountTransactionSequenceIntSrcAttr",
+			10, 1, 1,
+			"com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", false, primaryKeyAttributes[0], primaryKeyAttributes[0].getSourceAttributeType());
+		simulatedSequenceInitValues.add(initValues);
+		return simulatedSequenceInitValues;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData)object;
+		return Integer.valueOf(data.getDeskId());
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((Integer)source).intValue());
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((Integer)source).intValue());
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((Integer)source).intValue());
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((Integer)source).intValue());
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((Integer)source).intValue());
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountTransactionIntSrcAttrData(rs, dt ,((Integer)source).intValue());
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAccountTransactionIntSrcAttrData(1, (AccountTransactionIntSrcAttrData) data, rs, dt ,((Integer)source).intValue());
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountTransactionIntSrcAttrPkData(rs, dt, ((Integer)source).intValue());
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((Integer)source).intValue());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAccountTransactionIntSrcAttrTableName(((Integer)source).intValue());
+	}
+
+	public String getAccountTransactionIntSrcAttrTableName(int sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getTransactionId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "TRANSACTION_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TRANSACTION_ID,t0.TRANSACTION_DESCRIPTION,t0.TRANSACTION_DATE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias).append(".").append("TRANSACTION_ID");
+		result.append(",").append(databaseAlias).append(".").append("TRANSACTION_DESCRIPTION");
+		result.append(",").append(databaseAlias).append(".").append("TRANSACTION_DATE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (IntSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AccountTransactionIntSrcAttrData inflateAccountTransactionIntSrcAttrData(ResultSet rs, DatabaseType dt, int sourceAttribute)
+	throws SQLException
+	{
+		AccountTransactionIntSrcAttrData data = inflateAccountTransactionIntSrcAttrPkData(rs, dt, sourceAttribute);
+		inflateNonPkAccountTransactionIntSrcAttrData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public AccountTransactionIntSrcAttrData inflateAccountTransactionIntSrcAttrPkData(ResultSet _rs, DatabaseType _dt, int sourceAttribute)
+	throws SQLException
+	{
+		AccountTransactionIntSrcAttrData _data = new AccountTransactionIntSrcAttrData();
+		int _pos = 1;
+		_data.setDeskId(sourceAttribute);
+		_data.setTransactionId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "transactionId");
+		return _data;
+	}
+
+	public void inflateNonPkAccountTransactionIntSrcAttrData(int _pos, AccountTransactionIntSrcAttrData _datax, ResultSet _rs, DatabaseType _dt, int sourceAttribute)
+	throws SQLException
+	{
+		{
+			AccountTransactionIntSrcAttrData _data = _datax;
+			_data.setTransactionDescription(trimString(_rs.getString(_pos++)));
+			Timestamp transactionDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setTransactionDate(transactionDatetimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType(int sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(int sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(int sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof IntSourceSchemaManager )
+		{
+			this.schemaManager = (IntSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement IntSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof IntSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (IntSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement IntSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "ACCOUNT_TRANSACTION_ISA";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AccountTransactionIntSrcAttrData data = (AccountTransactionIntSrcAttrData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getTransactionId());
+		if (data.isTransactionDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionDescription());
+		}
+
+		if (data.isTransactionDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getTransactionDate(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "TRANSACTION_ID,TRANSACTION_DESCRIPTION,TRANSACTION_DATE";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		AccountTransactionIntSrcAttr newObject = new AccountTransactionIntSrcAttr();
+		newObject.zSetFromAccountTransactionIntSrcAttrData((AccountTransactionIntSrcAttrData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TRANSACTION_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("TRANSACTION_ID");
+		return result.toString();
+	}
+}
@@ -0,0 +1,668 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AccountTransactionIntSrcAttrFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("deskId",
+		IntegerAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AccountTransactionIntSrcAttr";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AccountTransactionIntSrcAttr";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AccountTransactionIntSrcAttr");
+	private static final AccountTransactionIntSrcAttrSingleFinder<AccountTransactionIntSrcAttr, Object, AccountTransactionIntSrcAttr> finder = new AccountTransactionIntSrcAttrSingleFinder<AccountTransactionIntSrcAttr, Object, AccountTransactionIntSrcAttr>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AccountTransactionIntSrcAttrFinder.AccountTransactionIntSrcAttrRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("transactionId");
+		finderMethodMap.addNormalAttributeName("transactionDescription");
+		finderMethodMap.addNormalAttributeName("transactionDate");
+		finderMethodMap.addNormalAttributeName("deskId");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return AccountTransactionIntSrcAttrFinder.zSourceAttributeType;
+	}
+
+	public static AccountTransactionIntSrcAttr findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AccountTransactionIntSrcAttr findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AccountTransactionIntSrcAttrList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountTransactionIntSrcAttrList) finder.findMany(operation);
+	}
+
+	public static AccountTransactionIntSrcAttrList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountTransactionIntSrcAttrList) finder.findManyBypassCache(operation);
+	}
+
+	private static AccountTransactionIntSrcAttr findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AccountTransactionIntSrcAttr) FinderUtils.findOne(found);
+	}
+
+	public static AccountTransactionIntSrcAttr findByPrimaryKey(long transactionId, int deskId)
+	{
+		return finder.findByPrimaryKey(transactionId, deskId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AccountTransactionIntSrcAttrData _castedTargetData = (AccountTransactionIntSrcAttrData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getTransactionId() && _bean.getI1AsInteger() == _castedTargetData.getDeskId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static AccountTransactionIntSrcAttr zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AccountTransactionIntSrcAttr) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AccountTransactionIntSrcAttrRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AccountTransactionIntSrcAttr, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return AccountTransactionIntSrcAttrFinder.zSourceAttributeType;
+		}
+
+		private LongAttribute<ParentOwnerType> transactionId;
+		private StringAttribute<ParentOwnerType> transactionDescription;
+		private TimestampAttribute<ParentOwnerType> transactionDate;
+		private IntegerAttribute<ParentOwnerType> deskId;
+		public AccountTransactionIntSrcAttrRelatedFinder()
+		{
+			super();
+		}
+
+		public AccountTransactionIntSrcAttrRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AccountTransactionIntSrcAttrFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AccountTransactionIntSrcAttrFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AccountTransactionIntSrcAttrFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AccountTransactionIntSrcAttrFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.transactionId();
+			attributes[1] = this.transactionDescription();
+			attributes[2] = this.transactionDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AccountTransactionIntSrcAttr findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AccountTransactionIntSrcAttrFinder.findOne(operation, false);
+		}
+
+		public AccountTransactionIntSrcAttr findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AccountTransactionIntSrcAttrFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AccountTransactionIntSrcAttr> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AccountTransactionIntSrcAttrList((Operation) operation);
+		}
+
+		public MithraList<? extends AccountTransactionIntSrcAttr> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AccountTransactionIntSrcAttrList result = (AccountTransactionIntSrcAttrList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AccountTransactionIntSrcAttr> constructEmptyList()
+		{
+			return new AccountTransactionIntSrcAttrList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1598222185;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return AccountTransactionIntSrcAttrFinder.zSourceAttributeType;
+		}
+
+		public LongAttribute<ParentOwnerType> transactionId()
+		{
+			LongAttribute<ParentOwnerType> result = this.transactionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("TRANSACTION_ID","","transactionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,true, false) :
+					new MappedLongAttribute(AccountTransactionIntSrcAttrFinder.transactionId(), this.mapper, this.zGetValueSelector());
+				this.transactionId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionDescription()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionDescription;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANSACTION_DESCRIPTION","","transactionDescription",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(AccountTransactionIntSrcAttrFinder.transactionDescription(), this.mapper, this.zGetValueSelector());
+				this.transactionDescription = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> transactionDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.transactionDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TRANSACTION_DATE","","transactionDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(AccountTransactionIntSrcAttrFinder.transactionDate(), this.mapper, this.zGetValueSelector());
+				this.transactionDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> deskId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.deskId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate(null,"","deskId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AccountTransactionIntSrcAttrFinder.deskId(), this.mapper, this.zGetValueSelector());
+				this.deskId = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return AccountTransactionIntSrcAttrFinder.deskId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AccountTransactionIntSrcAttrFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AccountTransactionIntSrcAttrFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AccountTransactionIntSrcAttrCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AccountTransactionIntSrcAttrRelatedFinder<ParentOwnerType, ReturnType, AccountTransactionIntSrcAttrList, OwnerType>
+	{
+		public AccountTransactionIntSrcAttrCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AccountTransactionIntSrcAttrCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AccountTransactionIntSrcAttrCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountTransactionIntSrcAttrCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AccountTransactionIntSrcAttrSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AccountTransactionIntSrcAttrRelatedFinder<ParentOwnerType, ReturnType, AccountTransactionIntSrcAttrList, OwnerType>
+	implements ToOneFinder
+	{
+		public AccountTransactionIntSrcAttrSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AccountTransactionIntSrcAttrSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AccountTransactionIntSrcAttr other)
+		{
+			return this.transactionId().eq(other.getTransactionId())
+			.and(this.deskId().eq(other.getDeskId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AccountTransactionIntSrcAttr findByPrimaryKey(long transactionId, int deskId)
+		{
+			AccountTransactionIntSrcAttr _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(transactionId);
+				_bean.setI1AsInteger(deskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AccountTransactionIntSrcAttr) _related;
+			if (_related == null)
+			{
+				_op = this.transactionId().eq(transactionId).and(this.deskId().eq(deskId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AccountTransactionIntSrcAttrSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AccountTransactionIntSrcAttrSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountTransactionIntSrcAttrSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to ACCOUNT_TRANSACTION_ISA.TRANSACTION_ID **/
+	public static LongAttribute<AccountTransactionIntSrcAttr> transactionId()
+	{
+		return finder.transactionId();
+	}
+
+	/** maps to ACCOUNT_TRANSACTION_ISA.TRANSACTION_DESCRIPTION **/
+	public static StringAttribute<AccountTransactionIntSrcAttr> transactionDescription()
+	{
+		return finder.transactionDescription();
+	}
+
+	/** maps to ACCOUNT_TRANSACTION_ISA.TRANSACTION_DATE **/
+	public static TimestampAttribute<AccountTransactionIntSrcAttr> transactionDate()
+	{
+		return finder.transactionDate();
+	}
+
+	public static IntegerAttribute<AccountTransactionIntSrcAttr> deskId()
+	{
+		return finder.deskId();
+	}
+
+	public static Operation eq(AccountTransactionIntSrcAttr other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(transactionId());
+	}
+
+	public static AccountTransactionIntSrcAttrSingleFinder<AccountTransactionIntSrcAttr, Object, AccountTransactionIntSrcAttr> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			transactionId()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			transactionId()
+			, transactionId()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AccountTransactionIntSrcAttr");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(int deskId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(deskId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<Integer> deskIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(deskIdSet, listener);
+	}
+}
@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AccountTransactionIntSrcAttrListAbstract extends DelegatingList<AccountTransactionIntSrcAttr> implements MithraTransactionalList<AccountTransactionIntSrcAttr>
+{
+	public AccountTransactionIntSrcAttrListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AccountTransactionIntSrcAttrListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AccountTransactionIntSrcAttrListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AccountTransactionIntSrcAttrListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AccountTransactionIntSrcAttr[] elements()
+	{
+		AccountTransactionIntSrcAttr[] result = new AccountTransactionIntSrcAttr[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AccountTransactionIntSrcAttrList intersection(AccountTransactionIntSrcAttrList another)
+	{
+		return (AccountTransactionIntSrcAttrList)super.intersection(another);
+	}
+
+	public AccountTransactionIntSrcAttr getAccountTransactionIntSrcAttrAt(int index)
+	{
+		return (AccountTransactionIntSrcAttr)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountTransactionIntSrcAttrFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransactionIntSrcAttrList getNonPersistentCopy()
+	{
+		AccountTransactionIntSrcAttrList result = new AccountTransactionIntSrcAttrList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AccountTransactionIntSrcAttrList asAdhoc()
+	{
+		return (AccountTransactionIntSrcAttrList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AccountTransactionIntSrcAttr> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AccountTransactionIntSrcAttrList merge(MithraTransactionalList<AccountTransactionIntSrcAttr> incoming, TopLevelMergeOptions<AccountTransactionIntSrcAttr> mergeOptions)
+	{
+		return (AccountTransactionIntSrcAttrList) super.merge(incoming, mergeOptions);
+	}
+
+	public AccountTransactionIntSrcAttrList getDetachedCopy()
+	{
+		AccountTransactionIntSrcAttrList result = new AccountTransactionIntSrcAttrList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysWithSourceAttribute((SequenceAttribute)AccountTransactionIntSrcAttrFinder.transactionId(), false, "AccountTransactionSequenceIntSrcAttr", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory");
+	}
+
+	public void setTransactionId(long newValue)
+	{
+		zSetLong(AccountTransactionIntSrcAttrFinder.transactionId(), newValue);
+	}
+
+	public void setTransactionDescription(String newValue)
+	{
+		zSetString(AccountTransactionIntSrcAttrFinder.transactionDescription(), newValue);
+	}
+
+	public void setTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionIntSrcAttrFinder.transactionDate(), newValue);
+	}
+
+	public void setDeskId(int newValue)
+	{
+		zSetInteger(AccountTransactionIntSrcAttrFinder.deskId(), newValue);
+	}
+}
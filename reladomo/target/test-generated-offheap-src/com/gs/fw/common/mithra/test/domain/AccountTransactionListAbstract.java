@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AccountTransactionListAbstract extends DelegatingList<AccountTransaction> implements MithraTransactionalList<AccountTransaction>
+{
+	public AccountTransactionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AccountTransactionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AccountTransactionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AccountTransactionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AccountTransaction[] elements()
+	{
+		AccountTransaction[] result = new AccountTransaction[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AccountTransactionList intersection(AccountTransactionList another)
+	{
+		return (AccountTransactionList)super.intersection(another);
+	}
+
+	public AccountTransaction getAccountTransactionAt(int index)
+	{
+		return (AccountTransaction)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountTransactionFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransactionList getNonPersistentCopy()
+	{
+		AccountTransactionList result = new AccountTransactionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AccountTransactionList asAdhoc()
+	{
+		return (AccountTransactionList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AccountTransaction> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AccountTransactionList merge(MithraTransactionalList<AccountTransaction> incoming, TopLevelMergeOptions<AccountTransaction> mergeOptions)
+	{
+		return (AccountTransactionList) super.merge(incoming, mergeOptions);
+	}
+
+	public AccountTransactionList getDetachedCopy()
+	{
+		AccountTransactionList result = new AccountTransactionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysWithSourceAttribute((SequenceAttribute)AccountTransactionFinder.transactionId(), false, "AccountTransactionSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory");
+	}
+
+	public void setTransactionId(int newValue)
+	{
+		zSetInteger(AccountTransactionFinder.transactionId(), newValue);
+	}
+
+	public void setTransactionDescription(String newValue)
+	{
+		zSetString(AccountTransactionFinder.transactionDescription(), newValue);
+	}
+
+	public void setTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionFinder.transactionDate(), newValue);
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(AccountTransactionFinder.deskId(), newValue);
+	}
+}
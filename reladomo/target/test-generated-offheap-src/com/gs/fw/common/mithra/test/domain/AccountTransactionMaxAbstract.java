@@ -0,0 +1,326 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AccountTransactionMaxAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AccountTransactionMax.class.getName());
+	public AccountTransactionMaxAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AccountTransactionMax getDetachedCopy() throws MithraBusinessException
+	{
+		return (AccountTransactionMax) super.getDetachedCopy();
+	}
+
+	public AccountTransactionMax getNonPersistentCopy() throws MithraBusinessException
+	{
+		AccountTransactionMax result = (AccountTransactionMax) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public AccountTransactionMax copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AccountTransactionMax) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AccountTransactionMax zFindOriginal()
+	{
+		AccountTransactionMaxData data = (AccountTransactionMaxData) this.currentData;
+		Operation op;
+		op = AccountTransactionMaxFinder.transactionId().eq(data.getTransactionId());
+		op = op.and(AccountTransactionMaxFinder.deskId().eq(data.getDeskId()));
+		return AccountTransactionMaxFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AccountTransactionMaxData();
+	}
+
+	protected void zSetFromAccountTransactionMaxData( AccountTransactionMaxData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAccountTransactionMaxData( AccountTransactionMaxData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((AccountTransactionMaxData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		AccountTransactionMaxData data = (AccountTransactionMaxData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(AccountTransactionMaxFinder.deskId(), newValue, false, false );
+	}
+
+	public boolean isTransactionDateNull()
+	{
+		return ((AccountTransactionMaxData) this.zSynchronizedGetData()).isTransactionDateNull();
+	}
+
+	public Timestamp getTransactionDate()
+	{
+		AccountTransactionMaxData data = (AccountTransactionMaxData) this.zSynchronizedGetData();
+		return data.getTransactionDate();
+	}
+
+	public void setTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionMaxFinder.transactionDate(), newValue, false, false );
+	}
+
+	public boolean isTransactionDescriptionNull()
+	{
+		return ((AccountTransactionMaxData) this.zSynchronizedGetData()).isTransactionDescriptionNull();
+	}
+
+	public String getTransactionDescription()
+	{
+		AccountTransactionMaxData data = (AccountTransactionMaxData) this.zSynchronizedGetData();
+		return data.getTransactionDescription();
+	}
+
+	public void setTransactionDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'transactionDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(AccountTransactionMaxFinder.transactionDescription(), newValue, false, false );
+	}
+
+	public boolean isTransactionIdNull()
+	{
+		return ((AccountTransactionMaxData) this.zSynchronizedGetData()).isTransactionIdNull();
+	}
+
+	public long getTransactionId()
+	{
+		AccountTransactionMaxData data = (AccountTransactionMaxData) this.zSynchronizedGetData();
+		return data.getTransactionId();
+	}
+
+	public void setTransactionId(long newValue)
+	{
+		zSetLong(AccountTransactionMaxFinder.transactionId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AccountTransactionMaxData _newData = (AccountTransactionMaxData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AccountTransactionMaxData _newData = (AccountTransactionMaxData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionMaxData _newData = (AccountTransactionMaxData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AccountTransactionMax zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		AccountTransactionMax original = (AccountTransactionMax) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AccountTransactionMaxFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AccountTransactionMaxFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransactionMax getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, AccountTransactionMaxFinder.transactionDate(), false);
+		changed |= zUpdateString(behavior, data, newData, AccountTransactionMaxFinder.transactionDescription(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AccountTransactionMaxFinder.deskId(), false);
+		changed |= zUpdateLong(behavior, data, newData, AccountTransactionMaxFinder.transactionId(), false);
+		return changed;
+	}
+
+	public long generateAndSetTransactionId()
+	{
+		long nextValue =(long) this.generateTransactionId();
+		this.setTransactionId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsTransactionIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AccountTransactionMaxData data = (AccountTransactionMaxData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsTransactionIdSet();
+	}
+
+	protected long generateTransactionId()
+	throws MithraBusinessException
+	{
+		MaxFromTablePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getMaxFromTablePrimaryKeyGenerator(AccountTransactionMaxFinder.transactionId(),this.getDeskId());
+		return (long)primaryKeyGenerator.getNextId();
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionMaxData data = (AccountTransactionMaxData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsTransactionIdSet())
+		{
+			data.setTransactionId(generateTransactionId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AccountTransactionMaxAbstract result = (AccountTransactionMaxAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
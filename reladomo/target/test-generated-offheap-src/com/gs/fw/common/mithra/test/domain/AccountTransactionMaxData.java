@@ -0,0 +1,355 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AccountTransactionMaxData
+implements MithraDataObject
+{
+	private String deskId;
+	private Timestamp transactionDate;
+	private String transactionDescription;
+	private long transactionId;
+	public boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isTransactionDateNull()
+	{
+		return this.getTransactionDate() == null;
+	}
+
+	public boolean isTransactionDescriptionNull()
+	{
+		return this.getTransactionDescription() == null;
+	}
+
+	public boolean isTransactionIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.deskId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.transactionDate);
+		out.writeObject(this.transactionDescription);
+		out.writeLong(this.transactionId);
+		out.writeBoolean(_isTransactionIdSet);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public int zGetDeskIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+	}
+
+	public void setDeskId(String value)
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, AccountTransactionMaxFinder.isFullCache());
+	}
+
+	public void setDeskIdNull()
+	{
+		this.setDeskId(null);
+	}
+
+	public Timestamp getTransactionDate()
+	{
+		return this.transactionDate;
+	}
+
+	public long zGetTransactionDateAsLong()
+	{
+		if (transactionDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return transactionDate.getTime();
+	}
+
+	public void setTransactionDate(Timestamp value)
+	{
+		this.transactionDate = TimestampPool.getInstance().getOrAddToCache(value, AccountTransactionMaxFinder.isFullCache(), AccountTransactionMaxFinder.isOffHeap());
+	}
+
+	public void setTransactionDateNull()
+	{
+		this.setTransactionDate(null);
+	}
+
+	public String getTransactionDescription()
+	{
+		return this.transactionDescription;
+	}
+
+	public int zGetTransactionDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionDescription);
+	}
+
+	public void setTransactionDescription(String value)
+	{
+		this.transactionDescription = StringPool.getInstance().getOrAddToCache(value, AccountTransactionMaxFinder.isFullCache());
+	}
+
+	public void setTransactionDescriptionNull()
+	{
+		this.setTransactionDescription(null);
+	}
+
+	public long getTransactionId()
+	{
+		return this.transactionId;
+	}
+
+	public void setTransactionId(long value)
+	{
+		this.transactionId = value;
+		_isTransactionIdSet = true;
+	}
+
+	public void setTransactionIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean _isTransactionIdSet;
+	public boolean zGetIsTransactionIdSet()
+	{
+		return _isTransactionIdSet;
+	}
+
+	protected void copyInto(AccountTransactionMaxData copy, boolean withRelationships)
+	{
+		copy.deskId = this.deskId;
+		copy.transactionDate = this.transactionDate;
+		copy.transactionDescription = this.transactionDescription;
+		copy.transactionId = this.transactionId;
+		copy._isTransactionIdSet = this._isTransactionIdSet;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountTransactionMaxFinder.isFullCache());
+		this.transactionDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AccountTransactionMaxFinder.isFullCache(), AccountTransactionMaxFinder.isOffHeap());
+		this.transactionDescription = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountTransactionMaxFinder.isFullCache());
+		this.transactionId = in.readLong();
+		_isTransactionIdSet = in.readBoolean();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AccountTransactionMaxData otherData = (AccountTransactionMaxData) other;
+		if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+		{
+			return false;
+		}
+
+		if (getTransactionId() != otherData.getTransactionId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.deskId);
+		out.writeLong(this.transactionId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountTransactionMaxFinder.isFullCache());
+		this.transactionId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AccountTransactionMaxData accountTransactionMaxData = (AccountTransactionMaxData) newData;
+		this.setDeskId(accountTransactionMaxData.getDeskId());
+		this.setTransactionDate(accountTransactionMaxData.getTransactionDate());
+		this.setTransactionDescription(accountTransactionMaxData.getTransactionDescription());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AccountTransactionMaxData other = (AccountTransactionMaxData) newData;
+		if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionDateNull() ? !getTransactionDate().equals(other.getTransactionDate()) : !other.isTransactionDateNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionDescriptionNull() ? !getTransactionDescription().equals(other.getTransactionDescription()) : !other.isTransactionDescriptionNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AccountTransactionMaxData copy = new AccountTransactionMaxData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AccountTransactionMaxData copy = new AccountTransactionMaxData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		result += "transactionId: "+(""+getTransactionId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.AccountTransactionMaxData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AccountTransactionMaxFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AccountTransactionMaxFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AccountTransactionMaxData";
+	}
+}
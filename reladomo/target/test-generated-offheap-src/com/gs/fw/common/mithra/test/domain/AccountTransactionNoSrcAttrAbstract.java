@@ -0,0 +1,309 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AccountTransactionNoSrcAttrAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AccountTransactionNoSrcAttr.class.getName());
+	public AccountTransactionNoSrcAttrAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AccountTransactionNoSrcAttr getDetachedCopy() throws MithraBusinessException
+	{
+		return (AccountTransactionNoSrcAttr) super.getDetachedCopy();
+	}
+
+	public AccountTransactionNoSrcAttr getNonPersistentCopy() throws MithraBusinessException
+	{
+		AccountTransactionNoSrcAttr result = (AccountTransactionNoSrcAttr) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public AccountTransactionNoSrcAttr copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AccountTransactionNoSrcAttr) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AccountTransactionNoSrcAttr zFindOriginal()
+	{
+		AccountTransactionNoSrcAttrData data = (AccountTransactionNoSrcAttrData) this.currentData;
+		Operation op;
+		op = AccountTransactionNoSrcAttrFinder.transactionId().eq(data.getTransactionId());
+		return AccountTransactionNoSrcAttrFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AccountTransactionNoSrcAttrData();
+	}
+
+	protected void zSetFromAccountTransactionNoSrcAttrData( AccountTransactionNoSrcAttrData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAccountTransactionNoSrcAttrData( AccountTransactionNoSrcAttrData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isTransactionDateNull()
+	{
+		return ((AccountTransactionNoSrcAttrData) this.zSynchronizedGetData()).isTransactionDateNull();
+	}
+
+	public Timestamp getTransactionDate()
+	{
+		AccountTransactionNoSrcAttrData data = (AccountTransactionNoSrcAttrData) this.zSynchronizedGetData();
+		return data.getTransactionDate();
+	}
+
+	public void setTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionNoSrcAttrFinder.transactionDate(), newValue, false, false );
+	}
+
+	public boolean isTransactionDescriptionNull()
+	{
+		return ((AccountTransactionNoSrcAttrData) this.zSynchronizedGetData()).isTransactionDescriptionNull();
+	}
+
+	public String getTransactionDescription()
+	{
+		AccountTransactionNoSrcAttrData data = (AccountTransactionNoSrcAttrData) this.zSynchronizedGetData();
+		return data.getTransactionDescription();
+	}
+
+	public void setTransactionDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'transactionDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(AccountTransactionNoSrcAttrFinder.transactionDescription(), newValue, false, false );
+	}
+
+	public boolean isTransactionIdNull()
+	{
+		return ((AccountTransactionNoSrcAttrData) this.zSynchronizedGetData()).isTransactionIdNull();
+	}
+
+	public long getTransactionId()
+	{
+		AccountTransactionNoSrcAttrData data = (AccountTransactionNoSrcAttrData) this.zSynchronizedGetData();
+		return data.getTransactionId();
+	}
+
+	public void setTransactionId(long newValue)
+	{
+		zSetLong(AccountTransactionNoSrcAttrFinder.transactionId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AccountTransactionNoSrcAttrData _newData = (AccountTransactionNoSrcAttrData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AccountTransactionNoSrcAttrData _newData = (AccountTransactionNoSrcAttrData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionNoSrcAttrData _newData = (AccountTransactionNoSrcAttrData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AccountTransactionNoSrcAttr zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		AccountTransactionNoSrcAttr original = (AccountTransactionNoSrcAttr) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AccountTransactionNoSrcAttrFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AccountTransactionNoSrcAttrFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransactionNoSrcAttr getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, AccountTransactionNoSrcAttrFinder.transactionDate(), false);
+		changed |= zUpdateString(behavior, data, newData, AccountTransactionNoSrcAttrFinder.transactionDescription(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, AccountTransactionNoSrcAttrFinder.transactionId(), false);
+		return changed;
+	}
+
+	public long generateAndSetTransactionId()
+	{
+		long nextValue =(long) this.generateTransactionId();
+		this.setTransactionId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsTransactionIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AccountTransactionNoSrcAttrData data = (AccountTransactionNoSrcAttrData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsTransactionIdSet();
+	}
+
+	protected long generateTransactionId()
+	{
+		Object sourceAttribute = null;
+		AccountTransactionNoSrcAttrFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("AccountTransactionSequenceNoSrcAttr", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountTransactionNoSrcAttrData data = (AccountTransactionNoSrcAttrData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsTransactionIdSet())
+		{
+			data.setTransactionId(generateTransactionId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AccountTransactionNoSrcAttrAbstract result = (AccountTransactionNoSrcAttrAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
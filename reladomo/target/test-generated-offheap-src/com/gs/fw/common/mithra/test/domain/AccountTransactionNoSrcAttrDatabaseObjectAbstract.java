@@ -0,0 +1,435 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AccountTransactionNoSrcAttrDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "TRANSACTION_DESCRIPTION,TRANSACTION_DATE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.TRANSACTION_DESCRIPTION,t0.TRANSACTION_DATE";
+	private static final String PK_WITH_ALIAS = "t0.TRANSACTION_ID = ?";
+	private static final String PK_INDEX_COLS = "TRANSACTION_ID";
+	protected AccountTransactionNoSrcAttrDatabaseObjectAbstract()
+	{
+		super("AccountTransactionNoSrcAttr", "com.gs.fw.common.mithra.test.domain.AccountTransactionNoSrcAttrFinder",
+			3, 3,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountTransactionNoSrcAttrFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AccountTransactionNoSrcAttrFinder.getFinderInstance();
+	}
+
+	public static AccountTransactionNoSrcAttrData allocateOnHeapData()
+	{
+		return new AccountTransactionNoSrcAttrData();
+	}
+
+	public static AccountTransactionNoSrcAttrData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AccountTransactionNoSrcAttrData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AccountTransactionNoSrcAttrData data = new AccountTransactionNoSrcAttrData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(AccountTransactionNoSrcAttrFinder.getPrimaryKeyAttributes(), this, AccountTransactionNoSrcAttrFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(AccountTransactionNoSrcAttrFinder.getPrimaryKeyAttributes(), this, AccountTransactionNoSrcAttrFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(AccountTransactionNoSrcAttrFinder.getPrimaryKeyAttributes(), this, AccountTransactionNoSrcAttrFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(AccountTransactionNoSrcAttrFinder.getPrimaryKeyAttributes(), this, AccountTransactionNoSrcAttrFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AccountTransactionNoSrcAttrFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AccountTransactionNoSrcAttrFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AccountTransactionNoSrcAttr.zConfigFullTx();
+		}
+		else
+		{
+			AccountTransactionNoSrcAttr.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		ArrayList simulatedSequenceInitValues = new ArrayList(1);
+		Attribute[] primaryKeyAttributes = AccountTransactionNoSrcAttrFinder.getPrimaryKeyAttributes();
+		SimulatedSequenceInitValues initValues = null;
+		initValues = new SimulatedSequenceInitValues("AccountTransactionSequenceNoSrcAttr",
+			10, 1, 1,
+			"com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", false, primaryKeyAttributes[0], primaryKeyAttributes[0].getSourceAttributeType());
+		simulatedSequenceInitValues.add(initValues);
+		return simulatedSequenceInitValues;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountTransactionNoSrcAttrData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAccountTransactionNoSrcAttrData(1, (AccountTransactionNoSrcAttrData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAccountTransactionNoSrcAttrPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAccountTransactionNoSrcAttrTableName();
+	}
+
+	public String getAccountTransactionNoSrcAttrTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AccountTransactionNoSrcAttrData data = (AccountTransactionNoSrcAttrData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getTransactionId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "TRANSACTION_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TRANSACTION_ID,t0.TRANSACTION_DESCRIPTION,t0.TRANSACTION_DATE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias).append(".").append("TRANSACTION_ID");
+		result.append(",").append(databaseAlias).append(".").append("TRANSACTION_DESCRIPTION");
+		result.append(",").append(databaseAlias).append(".").append("TRANSACTION_DATE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AccountTransactionNoSrcAttrData inflateAccountTransactionNoSrcAttrData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		AccountTransactionNoSrcAttrData data = inflateAccountTransactionNoSrcAttrPkData(rs, dt);
+		inflateNonPkAccountTransactionNoSrcAttrData(2, data, rs, dt);
+		return data;
+	}
+
+	public AccountTransactionNoSrcAttrData inflateAccountTransactionNoSrcAttrPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		AccountTransactionNoSrcAttrData _data = new AccountTransactionNoSrcAttrData();
+		int _pos = 1;
+		_data.setTransactionId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "transactionId");
+		return _data;
+	}
+
+	public void inflateNonPkAccountTransactionNoSrcAttrData(int _pos, AccountTransactionNoSrcAttrData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			AccountTransactionNoSrcAttrData _data = _datax;
+			_data.setTransactionDescription(trimString(_rs.getString(_pos++)));
+			Timestamp transactionDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setTransactionDate(transactionDatetimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "ACCOUNT_TRANSACTION_NSA";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AccountTransactionNoSrcAttrData data = (AccountTransactionNoSrcAttrData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getTransactionId());
+		if (data.isTransactionDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionDescription());
+		}
+
+		if (data.isTransactionDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getTransactionDate(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "TRANSACTION_ID,TRANSACTION_DESCRIPTION,TRANSACTION_DATE";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		AccountTransactionNoSrcAttr newObject = new AccountTransactionNoSrcAttr();
+		newObject.zSetFromAccountTransactionNoSrcAttrData((AccountTransactionNoSrcAttrData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TRANSACTION_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("TRANSACTION_ID");
+		return result.toString();
+	}
+}
@@ -0,0 +1,625 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AccountTransactionNoSrcAttrFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AccountTransactionNoSrcAttr";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AccountTransactionNoSrcAttr";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AccountTransactionNoSrcAttr");
+	private static final AccountTransactionNoSrcAttrSingleFinder<AccountTransactionNoSrcAttr, Object, AccountTransactionNoSrcAttr> finder = new AccountTransactionNoSrcAttrSingleFinder<AccountTransactionNoSrcAttr, Object, AccountTransactionNoSrcAttr>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AccountTransactionNoSrcAttrFinder.AccountTransactionNoSrcAttrRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("transactionId");
+		finderMethodMap.addNormalAttributeName("transactionDescription");
+		finderMethodMap.addNormalAttributeName("transactionDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AccountTransactionNoSrcAttr findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AccountTransactionNoSrcAttr findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AccountTransactionNoSrcAttrList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountTransactionNoSrcAttrList) finder.findMany(operation);
+	}
+
+	public static AccountTransactionNoSrcAttrList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AccountTransactionNoSrcAttrList) finder.findManyBypassCache(operation);
+	}
+
+	private static AccountTransactionNoSrcAttr findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AccountTransactionNoSrcAttr) FinderUtils.findOne(found);
+	}
+
+	public static AccountTransactionNoSrcAttr findByPrimaryKey(long transactionId)
+	{
+		return finder.findByPrimaryKey(transactionId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AccountTransactionNoSrcAttrData _castedTargetData = (AccountTransactionNoSrcAttrData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getTransactionId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static AccountTransactionNoSrcAttr zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AccountTransactionNoSrcAttr) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AccountTransactionNoSrcAttrRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AccountTransactionNoSrcAttr, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> transactionId;
+		private StringAttribute<ParentOwnerType> transactionDescription;
+		private TimestampAttribute<ParentOwnerType> transactionDate;
+		public AccountTransactionNoSrcAttrRelatedFinder()
+		{
+			super();
+		}
+
+		public AccountTransactionNoSrcAttrRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AccountTransactionNoSrcAttrFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AccountTransactionNoSrcAttrFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AccountTransactionNoSrcAttrFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AccountTransactionNoSrcAttrFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.transactionId();
+			attributes[1] = this.transactionDescription();
+			attributes[2] = this.transactionDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AccountTransactionNoSrcAttr findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AccountTransactionNoSrcAttrFinder.findOne(operation, false);
+		}
+
+		public AccountTransactionNoSrcAttr findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AccountTransactionNoSrcAttrFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AccountTransactionNoSrcAttr> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AccountTransactionNoSrcAttrList((Operation) operation);
+		}
+
+		public MithraList<? extends AccountTransactionNoSrcAttr> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AccountTransactionNoSrcAttrList result = (AccountTransactionNoSrcAttrList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AccountTransactionNoSrcAttr> constructEmptyList()
+		{
+			return new AccountTransactionNoSrcAttrList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 34893717;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> transactionId()
+		{
+			LongAttribute<ParentOwnerType> result = this.transactionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("TRANSACTION_ID","","transactionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,true, false) :
+					new MappedLongAttribute(AccountTransactionNoSrcAttrFinder.transactionId(), this.mapper, this.zGetValueSelector());
+				this.transactionId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionDescription()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionDescription;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANSACTION_DESCRIPTION","","transactionDescription",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(AccountTransactionNoSrcAttrFinder.transactionDescription(), this.mapper, this.zGetValueSelector());
+				this.transactionDescription = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> transactionDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.transactionDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TRANSACTION_DATE","","transactionDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(AccountTransactionNoSrcAttrFinder.transactionDate(), this.mapper, this.zGetValueSelector());
+				this.transactionDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AccountTransactionNoSrcAttrFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AccountTransactionNoSrcAttrFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AccountTransactionNoSrcAttrCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AccountTransactionNoSrcAttrRelatedFinder<ParentOwnerType, ReturnType, AccountTransactionNoSrcAttrList, OwnerType>
+	{
+		public AccountTransactionNoSrcAttrCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AccountTransactionNoSrcAttrCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AccountTransactionNoSrcAttrCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountTransactionNoSrcAttrCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AccountTransactionNoSrcAttrSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AccountTransactionNoSrcAttrRelatedFinder<ParentOwnerType, ReturnType, AccountTransactionNoSrcAttrList, OwnerType>
+	implements ToOneFinder
+	{
+		public AccountTransactionNoSrcAttrSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AccountTransactionNoSrcAttrSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AccountTransactionNoSrcAttr other)
+		{
+			return this.transactionId().eq(other.getTransactionId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AccountTransactionNoSrcAttr findByPrimaryKey(long transactionId)
+		{
+			AccountTransactionNoSrcAttr _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(transactionId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AccountTransactionNoSrcAttr) _related;
+			if (_related == null)
+			{
+				_op = this.transactionId().eq(transactionId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AccountTransactionNoSrcAttrSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AccountTransactionNoSrcAttrSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AccountTransactionNoSrcAttrSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to ACCOUNT_TRANSACTION_NSA.TRANSACTION_ID **/
+	public static LongAttribute<AccountTransactionNoSrcAttr> transactionId()
+	{
+		return finder.transactionId();
+	}
+
+	/** maps to ACCOUNT_TRANSACTION_NSA.TRANSACTION_DESCRIPTION **/
+	public static StringAttribute<AccountTransactionNoSrcAttr> transactionDescription()
+	{
+		return finder.transactionDescription();
+	}
+
+	/** maps to ACCOUNT_TRANSACTION_NSA.TRANSACTION_DATE **/
+	public static TimestampAttribute<AccountTransactionNoSrcAttr> transactionDate()
+	{
+		return finder.transactionDate();
+	}
+
+	public static Operation eq(AccountTransactionNoSrcAttr other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(transactionId());
+	}
+
+	public static AccountTransactionNoSrcAttrSingleFinder<AccountTransactionNoSrcAttr, Object, AccountTransactionNoSrcAttr> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			transactionId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			transactionId()
+			, transactionId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AccountTransactionNoSrcAttr");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AccountTransactionNoSrcAttrListAbstract extends DelegatingList<AccountTransactionNoSrcAttr> implements MithraTransactionalList<AccountTransactionNoSrcAttr>
+{
+	public AccountTransactionNoSrcAttrListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AccountTransactionNoSrcAttrListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AccountTransactionNoSrcAttrListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AccountTransactionNoSrcAttrListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AccountTransactionNoSrcAttr[] elements()
+	{
+		AccountTransactionNoSrcAttr[] result = new AccountTransactionNoSrcAttr[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AccountTransactionNoSrcAttrList intersection(AccountTransactionNoSrcAttrList another)
+	{
+		return (AccountTransactionNoSrcAttrList)super.intersection(another);
+	}
+
+	public AccountTransactionNoSrcAttr getAccountTransactionNoSrcAttrAt(int index)
+	{
+		return (AccountTransactionNoSrcAttr)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountTransactionNoSrcAttrFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransactionNoSrcAttrList getNonPersistentCopy()
+	{
+		AccountTransactionNoSrcAttrList result = new AccountTransactionNoSrcAttrList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AccountTransactionNoSrcAttrList asAdhoc()
+	{
+		return (AccountTransactionNoSrcAttrList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AccountTransactionNoSrcAttr> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AccountTransactionNoSrcAttrList merge(MithraTransactionalList<AccountTransactionNoSrcAttr> incoming, TopLevelMergeOptions<AccountTransactionNoSrcAttr> mergeOptions)
+	{
+		return (AccountTransactionNoSrcAttrList) super.merge(incoming, mergeOptions);
+	}
+
+	public AccountTransactionNoSrcAttrList getDetachedCopy()
+	{
+		AccountTransactionNoSrcAttrList result = new AccountTransactionNoSrcAttrList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)AccountTransactionNoSrcAttrFinder.transactionId(), false, "AccountTransactionSequenceNoSrcAttr", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setTransactionId(long newValue)
+	{
+		zSetLong(AccountTransactionNoSrcAttrFinder.transactionId(), newValue);
+	}
+
+	public void setTransactionDescription(String newValue)
+	{
+		zSetString(AccountTransactionNoSrcAttrFinder.transactionDescription(), newValue);
+	}
+
+	public void setTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionNoSrcAttrFinder.transactionDate(), newValue);
+	}
+}
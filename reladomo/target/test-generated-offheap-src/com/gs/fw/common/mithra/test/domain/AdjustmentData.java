@@ -0,0 +1,431 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AdjustmentData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private int accountId;
+	private double adjustmentAmount;
+	private String deskId;
+	private int id;
+	private double originalAmount;
+	public boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isOriginalAmountNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isAdjustmentAmountNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.accountId);
+		out.writeDouble(this.adjustmentAmount);
+		out.writeObject(this.deskId);
+		out.writeInt(this.id);
+		out.writeDouble(this.originalAmount);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public int getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public void setAccountId(int value)
+	{
+		this.accountId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public double getAdjustmentAmount()
+	{
+		return this.adjustmentAmount;
+	}
+
+	public void setAdjustmentAmount(double value)
+	{
+		this.adjustmentAmount = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public int zGetDeskIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+	}
+
+	public void setDeskId(String value)
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, AdjustmentFinder.isFullCache());
+	}
+
+	public void setDeskIdNull()
+	{
+		this.setDeskId(null);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public double getOriginalAmount()
+	{
+		return this.originalAmount;
+	}
+
+	public void setOriginalAmount(double value)
+	{
+		this.originalAmount = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setOriginalAmountNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setAdjustmentAmountNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setAccountIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(AdjustmentData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.accountId = this.accountId;
+		copy.adjustmentAmount = this.adjustmentAmount;
+		copy.deskId = this.deskId;
+		copy.id = this.id;
+		copy.originalAmount = this.originalAmount;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.accountId = in.readInt();
+		this.adjustmentAmount = in.readDouble();
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AdjustmentFinder.isFullCache());
+		this.id = in.readInt();
+		this.originalAmount = in.readDouble();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AdjustmentData otherData = (AdjustmentData) other;
+		if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+		{
+			return false;
+		}
+
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.deskId);
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AdjustmentFinder.isFullCache());
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getDatedAccount()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setDatedAccount(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AdjustmentData adjustmentData = (AdjustmentData) newData;
+		this.setAccountId(adjustmentData.getAccountId());
+		if (adjustmentData.isAccountIdNull()) this.setAccountIdNull();
+		this.setAdjustmentAmount(adjustmentData.getAdjustmentAmount());
+		if (adjustmentData.isAdjustmentAmountNull()) this.setAdjustmentAmountNull();
+		this.setDeskId(adjustmentData.getDeskId());
+		this.setOriginalAmount(adjustmentData.getOriginalAmount());
+		if (adjustmentData.isOriginalAmountNull()) this.setOriginalAmountNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AdjustmentData other = (AdjustmentData) newData;
+		if ( isAccountIdNull() != other.isAccountIdNull() || getAccountId() != other.getAccountId())
+		{
+			return true;
+		}
+
+		if ( isAdjustmentAmountNull() != other.isAdjustmentAmountNull() || Math.abs(getAdjustmentAmount() - other.getAdjustmentAmount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if ( isOriginalAmountNull() != other.isOriginalAmountNull() || Math.abs(getOriginalAmount() - other.getOriginalAmount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AdjustmentData copy = new AdjustmentData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AdjustmentData copy = new AdjustmentData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.AdjustmentData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AdjustmentFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AdjustmentFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AdjustmentData";
+	}
+}
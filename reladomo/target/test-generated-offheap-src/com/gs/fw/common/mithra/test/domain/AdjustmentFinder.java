@@ -0,0 +1,839 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AdjustmentFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("deskId",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Adjustment";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Adjustment";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Adjustment");
+	private static final AdjustmentSingleFinder<Adjustment, Object, Adjustment> finder = new AdjustmentSingleFinder<Adjustment, Object, Adjustment>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AdjustmentFinder.AdjustmentRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("originalAmount");
+		finderMethodMap.addNormalAttributeName("adjustmentAmount");
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("deskId");
+		finderMethodMap.addRelationshipName("datedAccount");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = AdjustmentFinder.accountId().constructEqualityMapper(DatedAccountFinder.id());
+			result[1] = DatedAccountFinder.id().constructEqualityMapper(AdjustmentFinder.accountId());
+			result[2] = AdjustmentFinder.deskId().constructEqualityMapper(DatedAccountFinder.deskId());
+			result[3] = DatedAccountFinder.deskId().constructEqualityMapper(AdjustmentFinder.deskId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return AdjustmentFinder.zSourceAttributeType;
+	}
+
+	public static Adjustment findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Adjustment findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AdjustmentList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AdjustmentList) finder.findMany(operation);
+	}
+
+	public static AdjustmentList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AdjustmentList) finder.findManyBypassCache(operation);
+	}
+
+	private static Adjustment findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Adjustment) FinderUtils.findOne(found);
+	}
+
+	public static Adjustment findByPrimaryKey(int id, String deskId)
+	{
+		return finder.findByPrimaryKey(id, deskId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Adjustment _castedTargetData = (Adjustment) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId() && _bean.getO1AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static Adjustment zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Adjustment) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AdjustmentRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Adjustment, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return AdjustmentFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> id;
+		private DoubleAttribute<ParentOwnerType> originalAmount;
+		private DoubleAttribute<ParentOwnerType> adjustmentAmount;
+		private IntegerAttribute<ParentOwnerType> accountId;
+		private AdjustmentDatedAccountFinderSubclass<ParentOwnerType> datedAccount;
+		private StringAttribute<ParentOwnerType> deskId;
+		public AdjustmentRelatedFinder()
+		{
+			super();
+		}
+
+		public AdjustmentRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AdjustmentFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AdjustmentFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AdjustmentFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AdjustmentFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.id();
+			attributes[1] = this.originalAmount();
+			attributes[2] = this.adjustmentAmount();
+			attributes[3] = this.accountId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.datedAccount());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Adjustment findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AdjustmentFinder.findOne(operation, false);
+		}
+
+		public Adjustment findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AdjustmentFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Adjustment> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AdjustmentList((Operation) operation);
+		}
+
+		public MithraList<? extends Adjustment> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AdjustmentList result = (AdjustmentList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Adjustment> constructEmptyList()
+		{
+			return new AdjustmentList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 620864358;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return AdjustmentFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AdjustmentFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> originalAmount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.originalAmount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ORIGINAL_AMT","","originalAmount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AdjustmentFinder.originalAmount(), this.mapper, this.zGetValueSelector());
+				this.originalAmount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> adjustmentAmount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.adjustmentAmount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ADJUSTED_AMT","","adjustmentAmount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AdjustmentFinder.adjustmentAmount(), this.mapper, this.zGetValueSelector());
+				this.adjustmentAmount = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> accountId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ACCOUNT_ID","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AdjustmentFinder.accountId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("datedAccount");
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> deskId()
+		{
+			StringAttribute<ParentOwnerType> result = this.deskId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","deskId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(AdjustmentFinder.deskId(), this.mapper, this.zGetValueSelector());
+				this.deskId = result;
+			}
+
+			return result;
+		}
+
+		public DatedAccountFinder.DatedAccountSingleFinderForRelatedClasses<ParentOwnerType, DatedAccount, Adjustment> datedAccount()
+		{
+			AdjustmentDatedAccountFinderSubclass<ParentOwnerType> result = this.datedAccount;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AdjustmentFinder.zGetAdjustmentDatedAccountReverseMapper());
+				newMapper.setToMany(false);
+				result = new AdjustmentDatedAccountFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datedAccount = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return AdjustmentFinder.deskId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AdjustmentFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AdjustmentFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AdjustmentCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AdjustmentRelatedFinder<ParentOwnerType, ReturnType, AdjustmentList, OwnerType>
+	{
+		public AdjustmentCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AdjustmentCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AdjustmentCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AdjustmentCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AdjustmentSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AdjustmentRelatedFinder<ParentOwnerType, ReturnType, AdjustmentList, OwnerType>
+	implements ToOneFinder
+	{
+		public AdjustmentSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AdjustmentSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Adjustment other)
+		{
+			return this.id().eq(other.getId())
+			.and(this.deskId().eq(other.getDeskId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Adjustment findByPrimaryKey(int id, String deskId)
+		{
+			Adjustment _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (deskId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				_bean.setO1(deskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Adjustment) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.deskId().eq(deskId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AdjustmentSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AdjustmentSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AdjustmentSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper datedAccountReverseMapper = null;
+	public static Mapper zGetAdjustmentDatedAccountReverseMapper()
+	{
+		if (datedAccountReverseMapper == null)
+		{
+			datedAccountReverseMapper = zConstructAdjustmentDatedAccountReverseMapper();
+		}
+
+		return datedAccountReverseMapper;
+	}
+
+	private static Mapper datedAccountMapper = null;
+	public static Mapper zGetAdjustmentDatedAccountMapper()
+	{
+		if (datedAccountMapper == null)
+		{
+			datedAccountMapper = zConstructAdjustmentDatedAccountMapper();
+		}
+
+		return datedAccountMapper;
+	}
+
+	private static Mapper datedAccountPureReverseMapper = null;
+	public static Mapper zGetAdjustmentDatedAccountPureReverseMapper()
+	{
+		if (datedAccountPureReverseMapper == null)
+		{
+			datedAccountPureReverseMapper = zConstructAdjustmentDatedAccountPureReverseMapper();
+		}
+
+		return datedAccountPureReverseMapper;
+	}
+
+	private static Mapper zConstructAdjustmentDatedAccountPureReverseMapper()
+	{
+		InternalList datedAccountMapperMapperList = new InternalList(2);
+		datedAccountMapperMapperList.add(AdjustmentFinder.zGetConstantJoin(0));
+		datedAccountMapperMapperList.add(AdjustmentFinder.zGetConstantJoin(2));
+		Mapper datedAccountMapper = new MultiEqualityMapper(datedAccountMapperMapperList);
+		datedAccountMapper.setName("datedAccount");
+		return datedAccountMapper;
+	}
+
+	private static Mapper zConstructAdjustmentDatedAccountReverseMapper()
+	{
+		InternalList datedAccountMapperMapperList = new InternalList(2);
+		datedAccountMapperMapperList.add(AdjustmentFinder.zGetConstantJoin(0));
+		datedAccountMapperMapperList.add(AdjustmentFinder.zGetConstantJoin(2));
+		Mapper datedAccountMapper = new MultiEqualityMapper(datedAccountMapperMapperList);
+		datedAccountMapper.setName("datedAccount");
+		return datedAccountMapper;
+	}
+
+	private static Mapper zConstructAdjustmentDatedAccountMapper()
+	{
+		InternalList datedAccountMapperMapperList = new InternalList(2);
+		datedAccountMapperMapperList.add(AdjustmentFinder.zGetConstantJoin(1));
+		datedAccountMapperMapperList.add(AdjustmentFinder.zGetConstantJoin(3));
+		Mapper datedAccountMapper = new MultiEqualityMapper(datedAccountMapperMapperList);
+		datedAccountMapper.setName("datedAccount_Reverse");
+		return datedAccountMapper;
+	}
+
+	/** maps to ADJUSTMENT.ID **/
+	public static IntegerAttribute<Adjustment> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to ADJUSTMENT.ORIGINAL_AMT **/
+	public static DoubleAttribute<Adjustment> originalAmount()
+	{
+		return finder.originalAmount();
+	}
+
+	/** maps to ADJUSTMENT.ADJUSTED_AMT **/
+	public static DoubleAttribute<Adjustment> adjustmentAmount()
+	{
+		return finder.adjustmentAmount();
+	}
+
+	/** maps to ADJUSTMENT.ACCOUNT_ID **/
+	public static IntegerAttribute<Adjustment> accountId()
+	{
+		return finder.accountId();
+	}
+
+	public static StringAttribute<Adjustment> deskId()
+	{
+		return finder.deskId();
+	}
+
+	public static DatedAccountFinder.DatedAccountSingleFinderForRelatedClasses<Adjustment, DatedAccount, Adjustment> datedAccount()
+	{
+		return finder.datedAccount();
+	}
+
+	public static class AdjustmentDatedAccountFinderSubclass<ParentOwnerType> extends DatedAccountFinder.DatedAccountSingleFinderForRelatedClasses<ParentOwnerType, DatedAccount, Adjustment>
+	{
+		public AdjustmentDatedAccountFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "datedAccount";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				DatedAccountFinder.id(),
+				DatedAccountFinder.deskId(),
+				DatedAccountFinder.businessDate(),
+				DatedAccountFinder.processingDate()).withExtractors(
+				AdjustmentFinder.accountId(),
+				AdjustmentFinder.deskId(),
+				((OperationWithParameterExtractor)DatedAccountFinder.businessDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor(),
+				((OperationWithParameterExtractor)DatedAccountFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AdjustmentDatedAccountFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DatedAccount plainValueOf(Adjustment _obj)
+		{
+			return _obj.getDatedAccount();
+		}
+
+		protected DatedAccountList plainListValueOf(Object _obj)
+		{
+			return ((AdjustmentList)_obj).getDatedAccounts();
+		}
+	}
+
+	public static Operation eq(Adjustment other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static AdjustmentSingleFinder<Adjustment, Object, Adjustment> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			accountId()
+			, deskId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = originalAmount();
+		result[1] = adjustmentAmount();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Adjustment");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String deskId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(deskId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> deskIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(deskIdSet, listener);
+	}
+}
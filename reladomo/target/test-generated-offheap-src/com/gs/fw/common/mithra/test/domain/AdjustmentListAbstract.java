@@ -0,0 +1,118 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AdjustmentListAbstract extends DelegatingList<Adjustment> implements MithraList<Adjustment>
+{
+	public AdjustmentListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AdjustmentListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AdjustmentListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AdjustmentListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Adjustment[] elements()
+	{
+		Adjustment[] result = new Adjustment[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AdjustmentList intersection(AdjustmentList another)
+	{
+		return (AdjustmentList)super.intersection(another);
+	}
+
+	public Adjustment getAdjustmentAt(int index)
+	{
+		return (Adjustment)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedAccount.id = this.accountId</pre>
+	* @return The dated account
+	*/
+	public DatedAccountList getDatedAccounts()
+	{
+		return (DatedAccountList) this.zGetDelegated().resolveRelationship(this, AdjustmentFinder.datedAccount());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AdjustmentFinder.getMithraObjectPortal();
+	}
+
+	public AdjustmentList getNonPersistentCopy()
+	{
+		AdjustmentList result = new AdjustmentList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AdjustmentList asAdhoc()
+	{
+		return (AdjustmentList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Adjustment> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
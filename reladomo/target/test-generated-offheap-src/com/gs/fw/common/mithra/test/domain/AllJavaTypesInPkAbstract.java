@@ -0,0 +1,435 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AllJavaTypesInPkAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AllJavaTypesInPk.class.getName());
+	public AllJavaTypesInPkAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AllJavaTypesInPk getDetachedCopy() throws MithraBusinessException
+	{
+		return (AllJavaTypesInPk) super.getDetachedCopy();
+	}
+
+	public AllJavaTypesInPk getNonPersistentCopy() throws MithraBusinessException
+	{
+		AllJavaTypesInPk result = (AllJavaTypesInPk) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public AllJavaTypesInPk copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AllJavaTypesInPk) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AllJavaTypesInPk zFindOriginal()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.currentData;
+		Operation op;
+		op = AllJavaTypesInPkFinder.booleanPk().eq(data.isBooleanPk());
+		op = op.and(AllJavaTypesInPkFinder.bytePk().eq(data.getBytePk()));
+		op = op.and(AllJavaTypesInPkFinder.charPk().eq(data.getCharPk()));
+		op = op.and(AllJavaTypesInPkFinder.datePk().eq(data.getDatePk()));
+		op = op.and(AllJavaTypesInPkFinder.doublePk().eq(data.getDoublePk()));
+		op = op.and(AllJavaTypesInPkFinder.floatPk().eq(data.getFloatPk()));
+		op = op.and(AllJavaTypesInPkFinder.intPk().eq(data.getIntPk()));
+		op = op.and(AllJavaTypesInPkFinder.longPk().eq(data.getLongPk()));
+		op = op.and(AllJavaTypesInPkFinder.shortPk().eq(data.getShortPk()));
+		op = op.and(AllJavaTypesInPkFinder.stringPk().eq(data.getStringPk()));
+		op = op.and(AllJavaTypesInPkFinder.timestampPk().eq(data.getTimestampPk()));
+		return AllJavaTypesInPkFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AllJavaTypesInPkData();
+	}
+
+	protected void zSetFromAllJavaTypesInPkData( AllJavaTypesInPkData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAllJavaTypesInPkData( AllJavaTypesInPkData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBooleanPkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isBooleanPkNull();
+	}
+
+	public boolean isBooleanPk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.isBooleanPk();
+	}
+
+	public void setBooleanPk(boolean newValue)
+	{
+		zSetBoolean(AllJavaTypesInPkFinder.booleanPk(), newValue, true, false ,false);
+	}
+
+	public boolean isBytePkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isBytePkNull();
+	}
+
+	public byte getBytePk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getBytePk();
+	}
+
+	public void setBytePk(byte newValue)
+	{
+		zSetByte(AllJavaTypesInPkFinder.bytePk(), newValue, true, false ,false);
+	}
+
+	public boolean isCharPkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isCharPkNull();
+	}
+
+	public char getCharPk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getCharPk();
+	}
+
+	public void setCharPk(char newValue)
+	{
+		zSetChar(AllJavaTypesInPkFinder.charPk(), newValue, true, false ,false);
+	}
+
+	public boolean isDatePkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isDatePkNull();
+	}
+
+	public Date getDatePk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getDatePk();
+	}
+
+	public void setDatePk(Date newValue)
+	{
+		zSetDate(AllJavaTypesInPkFinder.datePk(), newValue, true, false );
+	}
+
+	public boolean isDoubleNonPkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isDoubleNonPkNull();
+	}
+
+	public double getDoubleNonPk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		if (data.isDoubleNonPkNull()) MithraNullPrimitiveException.throwNew("doubleNonPk", data);
+		return data.getDoubleNonPk();
+	}
+
+	public void setDoubleNonPk(double newValue)
+	{
+		zSetDouble(AllJavaTypesInPkFinder.doubleNonPk(), newValue, false, false ,true);
+	}
+
+	public boolean isDoublePkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isDoublePkNull();
+	}
+
+	public double getDoublePk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getDoublePk();
+	}
+
+	public void setDoublePk(double newValue)
+	{
+		zSetDouble(AllJavaTypesInPkFinder.doublePk(), newValue, true, false ,false);
+	}
+
+	public boolean isFloatPkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isFloatPkNull();
+	}
+
+	public float getFloatPk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getFloatPk();
+	}
+
+	public void setFloatPk(float newValue)
+	{
+		zSetFloat(AllJavaTypesInPkFinder.floatPk(), newValue, true, false ,false);
+	}
+
+	public boolean isIntPkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isIntPkNull();
+	}
+
+	public int getIntPk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getIntPk();
+	}
+
+	public void setIntPk(int newValue)
+	{
+		zSetInteger(AllJavaTypesInPkFinder.intPk(), newValue, true, false ,false);
+	}
+
+	public boolean isLongPkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isLongPkNull();
+	}
+
+	public long getLongPk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getLongPk();
+	}
+
+	public void setLongPk(long newValue)
+	{
+		zSetLong(AllJavaTypesInPkFinder.longPk(), newValue, true, false ,false);
+	}
+
+	public boolean isShortPkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isShortPkNull();
+	}
+
+	public short getShortPk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getShortPk();
+	}
+
+	public void setShortPk(short newValue)
+	{
+		zSetShort(AllJavaTypesInPkFinder.shortPk(), newValue, true, false ,false);
+	}
+
+	public boolean isStringPkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isStringPkNull();
+	}
+
+	public String getStringPk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getStringPk();
+	}
+
+	public void setStringPk(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(AllJavaTypesInPkFinder.stringPk(), newValue, true, false );
+	}
+
+	public boolean isTimestampPkNull()
+	{
+		return ((AllJavaTypesInPkData) this.zSynchronizedGetData()).isTimestampPkNull();
+	}
+
+	public Timestamp getTimestampPk()
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData) this.zSynchronizedGetData();
+		return data.getTimestampPk();
+	}
+
+	public void setTimestampPk(Timestamp newValue)
+	{
+		zSetTimestamp(AllJavaTypesInPkFinder.timestampPk(), newValue, true, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, AllJavaTypesInPkFinder.doubleNonPk(), false);
+	}
+
+	public void setDoubleNonPkNull()
+	{
+		zNullify(AllJavaTypesInPkFinder.doubleNonPk(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AllJavaTypesInPkData _newData = (AllJavaTypesInPkData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AllJavaTypesInPkData _newData = (AllJavaTypesInPkData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AllJavaTypesInPkData _newData = (AllJavaTypesInPkData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AllJavaTypesInPk zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AllJavaTypesInPk original = (AllJavaTypesInPk) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AllJavaTypesInPkFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AllJavaTypesInPkFinder.getMithraObjectPortal();
+	}
+
+	public AllJavaTypesInPk getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, AllJavaTypesInPkFinder.doubleNonPk(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, AllJavaTypesInPkFinder.booleanPk(), false);
+		changed |= zUpdateByte(behavior, data, newData, AllJavaTypesInPkFinder.bytePk(), false);
+		changed |= zUpdateChar(behavior, data, newData, AllJavaTypesInPkFinder.charPk(), false);
+		changed |= zUpdateDate(behavior, data, newData, AllJavaTypesInPkFinder.datePk(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AllJavaTypesInPkFinder.doublePk(), false);
+		changed |= zUpdateFloat(behavior, data, newData, AllJavaTypesInPkFinder.floatPk(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AllJavaTypesInPkFinder.intPk(), false);
+		changed |= zUpdateLong(behavior, data, newData, AllJavaTypesInPkFinder.longPk(), false);
+		changed |= zUpdateShort(behavior, data, newData, AllJavaTypesInPkFinder.shortPk(), false);
+		changed |= zUpdateString(behavior, data, newData, AllJavaTypesInPkFinder.stringPk(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, AllJavaTypesInPkFinder.timestampPk(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AllJavaTypesInPkAbstract result = (AllJavaTypesInPkAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,542 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AllJavaTypesInPkDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "DOUBLE_NON_PK";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.DOUBLE_NON_PK";
+	private static final String PK_WITH_ALIAS = "t0.BOOLEAN_PK = ? AND t0.BYTE_PK = ? AND t0.CHAR_PK = ? AND t0.DATE_PK = ? AND t0.DOUBLE_PK = ? AND t0.FLOAT_PK = ? AND t0.INT_PK = ? AND t0.LONG_PK = ? AND t0.SHORT_PK = ? AND t0.STRING_PK = ? AND t0.TIMESTAMP_PK = ?";
+	private static final String PK_INDEX_COLS = "BOOLEAN_PK,BYTE_PK,CHAR_PK,DATE_PK,DOUBLE_PK,FLOAT_PK,INT_PK,LONG_PK,SHORT_PK,STRING_PK,TIMESTAMP_PK";
+	protected AllJavaTypesInPkDatabaseObjectAbstract()
+	{
+		super("AllJavaTypesInPk", "com.gs.fw.common.mithra.test.domain.AllJavaTypesInPkFinder",
+			12, 12,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AllJavaTypesInPkFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AllJavaTypesInPkFinder.getFinderInstance();
+	}
+
+	public static AllJavaTypesInPkData allocateOnHeapData()
+	{
+		return new AllJavaTypesInPkData();
+	}
+
+	public static AllJavaTypesInPkData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AllJavaTypesInPkData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AllJavaTypesInPkData data = new AllJavaTypesInPkData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(AllJavaTypesInPkFinder.getPrimaryKeyAttributes(), this, AllJavaTypesInPkFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(AllJavaTypesInPkFinder.getPrimaryKeyAttributes(), this, AllJavaTypesInPkFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(AllJavaTypesInPkFinder.getPrimaryKeyAttributes(), this, AllJavaTypesInPkFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(AllJavaTypesInPkFinder.getPrimaryKeyAttributes(), this, AllJavaTypesInPkFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AllJavaTypesInPkFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AllJavaTypesInPkFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AllJavaTypesInPk.zConfigFullTx();
+		}
+		else
+		{
+			AllJavaTypesInPk.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAllJavaTypesInPkData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAllJavaTypesInPkData(1, (AllJavaTypesInPkData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAllJavaTypesInPkPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAllJavaTypesInPkTableName();
+	}
+
+	public String getAllJavaTypesInPkTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setBoolean(pos++, data.isBooleanPk());
+		stm.setByte(pos++, data.getBytePk());
+		stm.setString(pos++, String.valueOf(data.getCharPk()));
+		stm.setDate(pos++, data.getDatePk());
+		stm.setDouble(pos++, data.getDoublePk());
+		stm.setFloat(pos++, data.getFloatPk());
+		stm.setInt(pos++, data.getIntPk());
+		stm.setLong(pos++, data.getLongPk());
+		stm.setShort(pos++, data.getShortPk());
+		stm.setString(pos++, data.getStringPk());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getTimestampPk(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "BOOLEAN_PK = ? AND BYTE_PK = ? AND CHAR_PK = ? AND DATE_PK = ? AND DOUBLE_PK = ? AND FLOAT_PK = ? AND INT_PK = ? AND LONG_PK = ? AND SHORT_PK = ? AND STRING_PK = ? AND TIMESTAMP_PK = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.BOOLEAN_PK,t0.BYTE_PK,t0.CHAR_PK,t0.DATE_PK,t0.DOUBLE_PK,t0.FLOAT_PK,t0.INT_PK,t0.LONG_PK,t0.SHORT_PK,t0.STRING_PK,t0.TIMESTAMP_PK,t0.DOUBLE_NON_PK";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*12);
+		result.append(databaseAlias).append(".").append("BOOLEAN_PK");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_PK");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_PK");
+		result.append(",").append(databaseAlias).append(".").append("DATE_PK");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_PK");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_PK");
+		result.append(",").append(databaseAlias).append(".").append("INT_PK");
+		result.append(",").append(databaseAlias).append(".").append("LONG_PK");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_PK");
+		result.append(",").append(databaseAlias).append(".").append("STRING_PK");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_PK");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_NON_PK");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AllJavaTypesInPkData inflateAllJavaTypesInPkData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		AllJavaTypesInPkData data = inflateAllJavaTypesInPkPkData(rs, dt);
+		inflateNonPkAllJavaTypesInPkData(12, data, rs, dt);
+		return data;
+	}
+
+	public AllJavaTypesInPkData inflateAllJavaTypesInPkPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		AllJavaTypesInPkData _data = new AllJavaTypesInPkData();
+		int _pos = 1;
+		_data.setBooleanPk(_rs.getBoolean(_pos++));
+		checkNullPrimitive(_rs, _data, "booleanPk");
+		_data.setBytePk(_rs.getByte(_pos++));
+		checkNullPrimitive(_rs, _data, "bytePk");
+		String charPkCharValue = _rs.getString(_pos++);
+		boolean charPkCharValueisNull = charPkCharValue == null || charPkCharValue.length() < 1;
+		if(!charPkCharValueisNull)
+		{
+			if(charPkCharValue.length() > 1)
+			{
+				throw new SQLException("attribute defined as char, but is more than one character long in database");
+			}
+			else if(charPkCharValue.length() == 1)
+			{
+				_data.setCharPk(charPkCharValue.charAt(0));
+			}
+		}
+		else
+		{
+			throw new MithraBusinessException("attribute ' charPk ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+		}
+
+		_data.setDatePk(_rs.getDate(_pos++));
+		checkNullPrimitive(_rs, _data, "datePk");
+		_data.setDoublePk(_rs.getDouble(_pos++));
+		checkNullPrimitive(_rs, _data, "doublePk");
+		_data.setFloatPk(_rs.getFloat(_pos++));
+		checkNullPrimitive(_rs, _data, "floatPk");
+		_data.setIntPk(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "intPk");
+		_data.setLongPk(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "longPk");
+		_data.setShortPk(_rs.getShort(_pos++));
+		checkNullPrimitive(_rs, _data, "shortPk");
+		_data.setStringPk(trimString(_rs.getString(_pos++)));
+		Timestamp timestampPktimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setTimestampPk(timestampPktimestampValue);
+		return _data;
+	}
+
+	public void inflateNonPkAllJavaTypesInPkData(int _pos, AllJavaTypesInPkData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			AllJavaTypesInPkData _data = _datax;
+			_data.setDoubleNonPk(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDoubleNonPkNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "ALL_JAVA_TYPES";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AllJavaTypesInPkData data = (AllJavaTypesInPkData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setBoolean(pos++, data.isBooleanPk());
+		stm.setByte(pos++, data.getBytePk());
+		stm.setString(pos++, String.valueOf(data.getCharPk()));
+		if(data.isDatePkNull())
+		{
+			throwNullAttribute("datePk");
+		}
+
+		stm.setDate(pos++, data.getDatePk());
+		stm.setDouble(pos++, data.getDoublePk());
+		stm.setFloat(pos++, data.getFloatPk());
+		stm.setInt(pos++, data.getIntPk());
+		stm.setLong(pos++, data.getLongPk());
+		stm.setShort(pos++, data.getShortPk());
+		if(data.isStringPkNull())
+		{
+			throwNullAttribute("stringPk");
+		}
+
+		stm.setString(pos++, data.getStringPk());
+		if(data.isTimestampPkNull())
+		{
+			throwNullAttribute("timestampPk");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getTimestampPk(), false, conversionTimeZone);
+		pos++;
+		if (data.isDoubleNonPkNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getDoubleNonPk());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "BOOLEAN_PK,BYTE_PK,CHAR_PK,DATE_PK,DOUBLE_PK,FLOAT_PK,INT_PK,LONG_PK,SHORT_PK,STRING_PK,TIMESTAMP_PK,DOUBLE_NON_PK";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		AllJavaTypesInPk newObject = new AllJavaTypesInPk();
+		newObject.zSetFromAllJavaTypesInPkData((AllJavaTypesInPkData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.BOOLEAN_PK,t0.BYTE_PK,t0.CHAR_PK,t0.DATE_PK,t0.DOUBLE_PK,t0.FLOAT_PK,t0.INT_PK,t0.LONG_PK,t0.SHORT_PK,t0.STRING_PK,t0.TIMESTAMP_PK";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*12);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("BOOLEAN_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("BYTE_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("CHAR_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DATE_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DOUBLE_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("FLOAT_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("INT_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("LONG_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SHORT_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("STRING_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("TIMESTAMP_PK");
+		return result.toString();
+	}
+}
@@ -0,0 +1,190 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AllJavaTypesInPkListAbstract extends DelegatingList<AllJavaTypesInPk> implements MithraTransactionalList<AllJavaTypesInPk>
+{
+	public AllJavaTypesInPkListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AllJavaTypesInPkListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AllJavaTypesInPkListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AllJavaTypesInPkListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AllJavaTypesInPk[] elements()
+	{
+		AllJavaTypesInPk[] result = new AllJavaTypesInPk[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AllJavaTypesInPkList intersection(AllJavaTypesInPkList another)
+	{
+		return (AllJavaTypesInPkList)super.intersection(another);
+	}
+
+	public AllJavaTypesInPk getAllJavaTypesInPkAt(int index)
+	{
+		return (AllJavaTypesInPk)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AllJavaTypesInPkFinder.getMithraObjectPortal();
+	}
+
+	public AllJavaTypesInPkList getNonPersistentCopy()
+	{
+		AllJavaTypesInPkList result = new AllJavaTypesInPkList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AllJavaTypesInPkList asAdhoc()
+	{
+		return (AllJavaTypesInPkList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AllJavaTypesInPk> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AllJavaTypesInPkList merge(MithraTransactionalList<AllJavaTypesInPk> incoming, TopLevelMergeOptions<AllJavaTypesInPk> mergeOptions)
+	{
+		return (AllJavaTypesInPkList) super.merge(incoming, mergeOptions);
+	}
+
+	public AllJavaTypesInPkList getDetachedCopy()
+	{
+		AllJavaTypesInPkList result = new AllJavaTypesInPkList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanPk(boolean newValue)
+	{
+		zSetBoolean(AllJavaTypesInPkFinder.booleanPk(), newValue);
+	}
+
+	public void setBytePk(byte newValue)
+	{
+		zSetByte(AllJavaTypesInPkFinder.bytePk(), newValue);
+	}
+
+	public void setCharPk(char newValue)
+	{
+		zSetChar(AllJavaTypesInPkFinder.charPk(), newValue);
+	}
+
+	public void setDatePk(Date newValue)
+	{
+		zSetDate(AllJavaTypesInPkFinder.datePk(), newValue);
+	}
+
+	public void setDoublePk(double newValue)
+	{
+		zSetDouble(AllJavaTypesInPkFinder.doublePk(), newValue);
+	}
+
+	public void setFloatPk(float newValue)
+	{
+		zSetFloat(AllJavaTypesInPkFinder.floatPk(), newValue);
+	}
+
+	public void setIntPk(int newValue)
+	{
+		zSetInteger(AllJavaTypesInPkFinder.intPk(), newValue);
+	}
+
+	public void setLongPk(long newValue)
+	{
+		zSetLong(AllJavaTypesInPkFinder.longPk(), newValue);
+	}
+
+	public void setShortPk(short newValue)
+	{
+		zSetShort(AllJavaTypesInPkFinder.shortPk(), newValue);
+	}
+
+	public void setStringPk(String newValue)
+	{
+		zSetString(AllJavaTypesInPkFinder.stringPk(), newValue);
+	}
+
+	public void setTimestampPk(Timestamp newValue)
+	{
+		zSetTimestamp(AllJavaTypesInPkFinder.timestampPk(), newValue);
+	}
+
+	public void setDoubleNonPk(double newValue)
+	{
+		zSetDouble(AllJavaTypesInPkFinder.doubleNonPk(), newValue);
+	}
+
+	public void setDoubleNonPkNull()
+	{
+		zSetAttributeNull(AllJavaTypesInPkFinder.doubleNonPk());
+	}
+}
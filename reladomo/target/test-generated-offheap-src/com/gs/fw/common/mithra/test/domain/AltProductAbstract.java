@@ -0,0 +1,344 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AltProductAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AltProduct.class.getName());
+	public AltProductAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AltProduct getDetachedCopy() throws MithraBusinessException
+	{
+		return (AltProduct) super.getDetachedCopy();
+	}
+
+	public AltProduct getNonPersistentCopy() throws MithraBusinessException
+	{
+		AltProduct result = (AltProduct) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public AltProduct copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AltProduct) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AltProduct zFindOriginal()
+	{
+		AltProductData data = (AltProductData) this.currentData;
+		Operation op;
+		op = AltProductFinder.productId().eq(data.getProductId());
+		return AltProductFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AltProductData();
+	}
+
+	protected void zSetFromAltProductData( AltProductData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAltProductData( AltProductData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isNameNull()
+	{
+		return ((AltProductData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		AltProductData data = (AltProductData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 12)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 12: " + newValue);
+		zSetString(AltProductFinder.name(), newValue, false, false );
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((AltProductData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		AltProductData data = (AltProductData) this.zSynchronizedGetData();
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(AltProductFinder.productId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AltProductData _newData = (AltProductData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AltProductData _newData = (AltProductData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AltProductData _newData = (AltProductData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = AltSynonym.productId</pre>
+	* @return synonyms
+	*/
+	public AltSynonymList getSynonyms()
+	{
+		AltSynonymList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AltProductData _data = (AltProductData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = AltSynonymFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = AltSynonymFinder.productId().eq(_data.getProductId());
+					_result = new AltSynonymList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AltSynonymList) _data.getSynonyms();
+			if (_result == null)
+			{
+				{
+					_op = AltSynonymFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AltSynonymList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setSynonyms(AltSynonymList synonyms)
+	{
+		AltSynonymList _synonyms = (AltSynonymList) synonyms;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AltProductData _data = (AltProductData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSynonyms(_synonyms);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = AltSynonym.productId and
+	AltSynonym.synonymTypeId = AltSynonymType.synonymTypeId and
+	AltSynonymType.name = {synonymTypeName}</pre>
+	* @return The synonym by type
+	*/
+	public AltSynonym getSynonymByType(String synonymTypeName)
+	{
+		AltSynonym _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AltProductData _data = (AltProductData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = AltSynonymFinder.productId().eq(_data.getProductId()).and(new MappedOperation(AltProductFinder.zGetAltProductSynonymByTypeDangleMapper(synonymTypeName), AltSynonymTypeFinder.all()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = AltSynonymFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AltProduct zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AltProduct original = (AltProduct) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AltProductFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AltProductFinder.getMithraObjectPortal();
+	}
+
+	public AltProduct getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AltProductFinder.name(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AltProductFinder.productId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AltProductAbstract result = (AltProductAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
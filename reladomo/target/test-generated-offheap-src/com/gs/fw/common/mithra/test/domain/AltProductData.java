@@ -0,0 +1,313 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AltProductData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private String name;
+	private int productId;
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.name);
+		out.writeInt(this.productId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, AltProductFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+	}
+
+	public void setProductIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(AltProductData copy, boolean withRelationships)
+	{
+		copy.name = this.name;
+		copy.productId = this.productId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AltProductFinder.isFullCache());
+		this.productId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AltProductData otherData = (AltProductData) other;
+		if (getProductId() != otherData.getProductId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.productId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.productId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getSynonyms()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setSynonyms(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AltProductData altProductData = (AltProductData) newData;
+		this.setName(altProductData.getName());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AltProductData other = (AltProductData) newData;
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AltProductData copy = new AltProductData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AltProductData copy = new AltProductData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "productId: "+(""+getProductId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.AltProductData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AltProductFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AltProductFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AltProductData";
+	}
+}
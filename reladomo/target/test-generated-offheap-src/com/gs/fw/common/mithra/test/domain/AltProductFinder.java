@@ -0,0 +1,826 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AltProductFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AltProduct";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AltProduct";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AltProduct");
+	private static final AltProductSingleFinder<AltProduct, Object, AltProduct> finder = new AltProductSingleFinder<AltProduct, Object, AltProduct>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AltProductFinder.AltProductRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addRelationshipName("synonyms");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = AltProductFinder.productId().constructEqualityMapper(AltSynonymFinder.productId());
+			result[1] = AltSynonymFinder.productId().constructEqualityMapper(AltProductFinder.productId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AltProduct findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AltProduct findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AltProductList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AltProductList) finder.findMany(operation);
+	}
+
+	public static AltProductList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AltProductList) finder.findManyBypassCache(operation);
+	}
+
+	private static AltProduct findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AltProduct) FinderUtils.findOne(found);
+	}
+
+	public static AltProduct findByPrimaryKey(int productId)
+	{
+		return finder.findByPrimaryKey(productId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AltProductData _castedTargetData = (AltProductData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static AltProduct zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AltProduct) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AltProductRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AltProduct, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private StringAttribute<ParentOwnerType> name;
+		private AltProductSynonymsFinderSubclass<ParentOwnerType> synonyms;
+		public AltProductRelatedFinder()
+		{
+			super();
+		}
+
+		public AltProductRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AltProductFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AltProductFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AltProductFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AltProductFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.productId();
+			attributes[1] = this.name();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.synonyms());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AltProduct findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AltProductFinder.findOne(operation, false);
+		}
+
+		public AltProduct findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AltProductFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AltProduct> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AltProductList((Operation) operation);
+		}
+
+		public MithraList<? extends AltProduct> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AltProductList result = (AltProductList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AltProduct> constructEmptyList()
+		{
+			return new AltProductList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1365839474;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AltProductFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,12,true, false) :
+					new MappedStringAttribute(AltProductFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public AltSynonymFinder.AltSynonymCollectionFinderForRelatedClasses<ParentOwnerType, AltSynonymList, AltProduct> synonyms()
+		{
+			AltProductSynonymsFinderSubclass<ParentOwnerType> result = this.synonyms;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AltProductFinder.zGetAltProductSynonymsReverseMapper());
+				newMapper.setToMany(true);
+				result = new AltProductSynonymsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.synonyms = result;
+			}
+
+			return result;
+		}
+
+		public AltSynonymFinder.AltSynonymSingleFinderForRelatedClasses<ParentOwnerType, AltSynonym, AltProduct> synonymByType(String synonymTypeName)
+		{
+			AltProductSynonymByTypeFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(AltProductFinder.zGetAltProductSynonymByTypeReverseMapper(synonymTypeName));
+			newMapper.setToMany(false);
+			result = new AltProductSynonymByTypeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,synonymTypeName);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AltProductFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AltProductFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AltProductCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AltProductRelatedFinder<ParentOwnerType, ReturnType, AltProductList, OwnerType>
+	{
+		public AltProductCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AltProductCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AltProductCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AltProductCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AltProductSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AltProductRelatedFinder<ParentOwnerType, ReturnType, AltProductList, OwnerType>
+	implements ToOneFinder
+	{
+		public AltProductSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AltProductSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AltProduct other)
+		{
+			return this.productId().eq(other.getProductId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AltProduct findByPrimaryKey(int productId)
+		{
+			AltProduct _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(productId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AltProduct) _related;
+			if (_related == null)
+			{
+				_op = this.productId().eq(productId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AltProductSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AltProductSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AltProductSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper synonymsReverseMapper = null;
+	public static Mapper zGetAltProductSynonymsReverseMapper()
+	{
+		if (synonymsReverseMapper == null)
+		{
+			synonymsReverseMapper = zConstructAltProductSynonymsReverseMapper();
+		}
+
+		return synonymsReverseMapper;
+	}
+
+	private static Mapper synonymsMapper = null;
+	public static Mapper zGetAltProductSynonymsMapper()
+	{
+		if (synonymsMapper == null)
+		{
+			synonymsMapper = zConstructAltProductSynonymsMapper();
+		}
+
+		return synonymsMapper;
+	}
+
+	private static Mapper synonymsPureReverseMapper = null;
+	public static Mapper zGetAltProductSynonymsPureReverseMapper()
+	{
+		if (synonymsPureReverseMapper == null)
+		{
+			synonymsPureReverseMapper = zConstructAltProductSynonymsPureReverseMapper();
+		}
+
+		return synonymsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAltProductSynonymsPureReverseMapper()
+	{
+		Mapper synonymsMapper = AltProductFinder.zGetConstantJoin(0);
+		synonymsMapper.setName("synonyms");
+		return synonymsMapper;
+	}
+
+	private static Mapper zConstructAltProductSynonymsReverseMapper()
+	{
+		Mapper synonymsMapper = AltProductFinder.zGetConstantJoin(0);
+		synonymsMapper.setName("synonyms");
+		return synonymsMapper;
+	}
+
+	private static Mapper zConstructAltProductSynonymsMapper()
+	{
+		Mapper synonymsMapper = AltProductFinder.zGetConstantJoin(1);
+		synonymsMapper.setName("synonyms_Reverse");
+		return synonymsMapper;
+	}
+
+	public static Mapper zGetAltProductSynonymByTypeReverseMapper(String synonymTypeName)
+	{
+		return zConstructAltProductSynonymByTypeReverseMapper(synonymTypeName);
+	}
+
+	public static Mapper zGetAltProductSynonymByTypeMapper(String synonymTypeName)
+	{
+		return zConstructAltProductSynonymByTypeMapper(synonymTypeName);
+	}
+
+	public static Mapper zGetAltProductSynonymByTypeDangleMapper(String synonymTypeName)
+	{
+		Mapper dangleMapperInnerMapper = AltSynonymFinder.zGetConstantJoin(0);
+		Mapper dangleMapper = new FilteredMapper(dangleMapperInnerMapper, null, AltSynonymTypeFinder.name().eq(synonymTypeName));
+		return dangleMapper;
+	}
+
+	private static Mapper synonymByTypePureReverseMapper = null;
+	public static Mapper zGetAltProductSynonymByTypePureReverseMapper()
+	{
+		if (synonymByTypePureReverseMapper == null)
+		{
+			synonymByTypePureReverseMapper = zConstructAltProductSynonymByTypePureReverseMapper();
+		}
+
+		return synonymByTypePureReverseMapper;
+	}
+
+	private static Mapper zConstructAltProductSynonymByTypePureReverseMapper()
+	{
+		Mapper synonymByTypepMapper = AltProductFinder.zGetConstantJoin(0);
+		Mapper synonymByTypeb0Mapper = AltSynonymFinder.zGetConstantJoin(0);
+		Mapper synonymByTypeMapper = new FilteredMapper(synonymByTypepMapper, null, new MappedOperation(synonymByTypeb0Mapper, new All(synonymByTypeb0Mapper.getAnyRightAttribute())));
+		synonymByTypeMapper.setName("synonymByType");
+		return synonymByTypeMapper;
+	}
+
+	private static Mapper zConstructAltProductSynonymByTypeReverseMapper(String synonymTypeName)
+	{
+		Mapper synonymByTypepMapper = AltProductFinder.zGetConstantJoin(0);
+		Mapper synonymByTypeb0MapperInnerMapper = AltSynonymFinder.zGetConstantJoin(0);
+		Mapper synonymByTypeb0Mapper = new FilteredMapper(synonymByTypeb0MapperInnerMapper, null, AltSynonymTypeFinder.name().eq(synonymTypeName));
+		Mapper synonymByTypeMapper = new FilteredMapper(synonymByTypepMapper, null, new MappedOperation(synonymByTypeb0Mapper, new All(synonymByTypeb0Mapper.getAnyRightAttribute())));
+		synonymByTypeMapper.setName("synonymByType");
+		return synonymByTypeMapper;
+	}
+
+	private static Mapper zConstructAltProductSynonymByTypeMapper(String synonymTypeName)
+	{
+		Mapper synonymByTypeb0Mapper = AltProductFinder.zGetConstantJoin(1);
+		Mapper synonymByTypeb1MapperInnerMapper = AltSynonymFinder.zGetConstantJoin(0);
+		Mapper synonymByTypeb1Mapper = new FilteredMapper(synonymByTypeb1MapperInnerMapper, null, AltSynonymTypeFinder.name().eq(synonymTypeName));
+		Mapper synonymByTypeMapper = new FilteredMapper(synonymByTypeb0Mapper, new MappedOperation(synonymByTypeb1Mapper, new All(synonymByTypeb1Mapper.getAnyRightAttribute())), null);
+		synonymByTypeMapper.setName("synonymByType_Reverse");
+		return synonymByTypeMapper;
+	}
+
+	/** maps to ALT_PRODUCT.PRODUCT_ID **/
+	public static IntegerAttribute<AltProduct> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to ALT_PRODUCT."NAME" **/
+	public static StringAttribute<AltProduct> name()
+	{
+		return finder.name();
+	}
+
+	public static AltSynonymFinder.AltSynonymCollectionFinderForRelatedClasses<AltProduct, AltSynonymList, AltProduct> synonyms()
+	{
+		return finder.synonyms();
+	}
+
+	public static class AltProductSynonymsFinderSubclass<ParentOwnerType> extends AltSynonymFinder.AltSynonymCollectionFinderForRelatedClasses<ParentOwnerType, AltSynonymList, AltProduct>
+	{
+		public AltProductSynonymsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "synonyms";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AltProductSynonymsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AltSynonymList plainValueOf(AltProduct _obj)
+		{
+			return _obj.getSynonyms();
+		}
+
+		protected AltSynonymList plainListValueOf(Object _obj)
+		{
+			return ((AltProductList)_obj).getSynonyms();
+		}
+	}
+
+	public static AltSynonymFinder.AltSynonymSingleFinderForRelatedClasses<AltProduct, AltSynonym, AltProduct> synonymByType(String synonymTypeName)
+	{
+		return finder.synonymByType(synonymTypeName);
+	}
+
+	public static class AltProductSynonymByTypeFinderSubclass<ParentOwnerType> extends AltSynonymFinder.AltSynonymSingleFinderForRelatedClasses<ParentOwnerType, AltSynonym, AltProduct>
+	{
+		private String synonymTypeName;
+		public AltProductSynonymByTypeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String synonymTypeName)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.synonymTypeName = synonymTypeName;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "synonymByType";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AltProductSynonymByTypeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.synonymTypeName
+			);
+		}
+
+		protected AltSynonym plainValueOf(AltProduct _obj)
+		{
+			return _obj.getSynonymByType(synonymTypeName);
+		}
+
+		protected AltSynonymList plainListValueOf(Object _obj)
+		{
+			return ((AltProductList)_obj).getSynonymByTypes(synonymTypeName);
+		}
+	}
+
+	public static Operation eq(AltProduct other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(productId());
+	}
+
+	public static AltProductSingleFinder<AltProduct, Object, AltProduct> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			productId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			productId()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AltProduct");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,380 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AltSynonymAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AltSynonym.class.getName());
+	private static final RelationshipHashStrategy forsynonymType = new SynonymTypeRhs();
+	private static final class SynonymTypeRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AltSynonymData _castedSrcData = (AltSynonymData) _srcData;
+			AltSynonymTypeData _castedTargetData = (AltSynonymTypeData) _targetData;
+			if (_castedSrcData.getSynonymTypeId() == _castedTargetData.getSynonymTypeId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AltSynonymData _castedSrcData = (AltSynonymData) _srcData;
+			return HashUtil.hash(_castedSrcData.getSynonymTypeId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public AltSynonymAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AltSynonym getDetachedCopy() throws MithraBusinessException
+	{
+		return (AltSynonym) super.getDetachedCopy();
+	}
+
+	public AltSynonym getNonPersistentCopy() throws MithraBusinessException
+	{
+		AltSynonym result = (AltSynonym) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public AltSynonym copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AltSynonym) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AltSynonym zFindOriginal()
+	{
+		AltSynonymData data = (AltSynonymData) this.currentData;
+		Operation op;
+		op = AltSynonymFinder.productId().eq(data.getProductId());
+		op = op.and(AltSynonymFinder.synonymTypeId().eq(data.getSynonymTypeId()));
+		return AltSynonymFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AltSynonymData();
+	}
+
+	protected void zSetFromAltSynonymData( AltSynonymData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAltSynonymData( AltSynonymData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((AltSynonymData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		AltSynonymData data = (AltSynonymData) this.zSynchronizedGetData();
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(AltSynonymFinder.productId(), newValue, true, false ,false);
+	}
+
+	public boolean isSynonymTypeIdNull()
+	{
+		return ((AltSynonymData) this.zSynchronizedGetData()).isSynonymTypeIdNull();
+	}
+
+	public int getSynonymTypeId()
+	{
+		AltSynonymData data = (AltSynonymData) this.zSynchronizedGetData();
+		return data.getSynonymTypeId();
+	}
+
+	public void setSynonymTypeId(int newValue)
+	{
+		zSetInteger(AltSynonymFinder.synonymTypeId(), newValue, true, false ,false);
+	}
+
+	public boolean isValueNull()
+	{
+		return ((AltSynonymData) this.zSynchronizedGetData()).isValueNull();
+	}
+
+	public String getValue()
+	{
+		AltSynonymData data = (AltSynonymData) this.zSynchronizedGetData();
+		return data.getValue();
+	}
+
+	public void setValue(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 12)
+		throw new MithraBusinessException("Attribute 'value' cannot exceed maximum length of 12: " + newValue);
+		zSetString(AltSynonymFinder.value(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AltSynonymData _newData = (AltSynonymData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AltSynonymData _newData = (AltSynonymData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AltSynonymData _newData = (AltSynonymData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.synonymTypeId = AltSynonymType.synonymTypeId</pre>
+	* @return The synonym type
+	*/
+	public AltSynonymType getSynonymType()
+	{
+		AltSynonymType _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AltSynonymData _data = (AltSynonymData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = AltSynonymTypeFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forsynonymType, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (AltSynonymType) _related;
+				if (_related == null)
+				{
+					_op = AltSynonymTypeFinder.synonymTypeId().eq(_data.getSynonymTypeId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = AltSynonymTypeFinder.synonymTypeId().eq(_data.getSynonymTypeId());
+					_result = AltSynonymTypeFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AltSynonymType) _data.getSynonymType();
+			if (_result == null)
+			{
+				{
+					_op = AltSynonymTypeFinder.synonymTypeId().eq(_data.getSynonymTypeId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = AltSynonymTypeFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setSynonymType(AltSynonymType synonymType)
+	{
+		AltSynonymType _synonymType = (AltSynonymType) synonymType;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AltSynonymData _data = (AltSynonymData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSynonymType(_synonymType);
+			if (_synonymType == null)
+			{
+				this.setSynonymTypeId(0);
+			}
+			else
+			{
+				this.setSynonymTypeId(_synonymType.getSynonymTypeId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_synonymType == null)
+			{
+				this.setSynonymTypeId(0);
+			}
+			else
+			{
+				this.setSynonymTypeId(
+					_synonymType.getSynonymTypeId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AltSynonym zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AltSynonym original = (AltSynonym) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AltSynonymFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AltSynonymFinder.getMithraObjectPortal();
+	}
+
+	public AltSynonym getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AltSynonymFinder.value(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AltSynonymFinder.productId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AltSynonymFinder.synonymTypeId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AltSynonymAbstract result = (AltSynonymAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
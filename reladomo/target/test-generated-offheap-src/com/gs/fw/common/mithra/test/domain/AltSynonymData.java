@@ -0,0 +1,345 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AltSynonymData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private int productId;
+	private int synonymTypeId;
+	private String value;
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSynonymTypeIdNull()
+	{
+		return false;
+	}
+
+	public boolean isValueNull()
+	{
+		return this.getValue() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.productId);
+		out.writeInt(this.synonymTypeId);
+		out.writeObject(this.value);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+	}
+
+	public void setProductIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getSynonymTypeId()
+	{
+		return this.synonymTypeId;
+	}
+
+	public void setSynonymTypeId(int value)
+	{
+		this.synonymTypeId = value;
+	}
+
+	public void setSynonymTypeIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getValue()
+	{
+		return this.value;
+	}
+
+	public int zGetValueAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(value);
+	}
+
+	public void setValue(String value)
+	{
+		this.value = StringPool.getInstance().getOrAddToCache(value, AltSynonymFinder.isFullCache());
+	}
+
+	public void setValueNull()
+	{
+		this.setValue(null);
+	}
+
+	protected void copyInto(AltSynonymData copy, boolean withRelationships)
+	{
+		copy.productId = this.productId;
+		copy.synonymTypeId = this.synonymTypeId;
+		copy.value = this.value;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.productId = in.readInt();
+		this.synonymTypeId = in.readInt();
+		this.value = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AltSynonymFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AltSynonymData otherData = (AltSynonymData) other;
+		if (getProductId() != otherData.getProductId())
+		{
+			return false;
+		}
+
+		if (getSynonymTypeId() != otherData.getSynonymTypeId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.productId);
+		out.writeInt(this.synonymTypeId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.productId = in.readInt();
+		this.synonymTypeId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getSynonymType()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setSynonymType(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AltSynonymData altSynonymData = (AltSynonymData) newData;
+		this.setValue(altSynonymData.getValue());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AltSynonymData other = (AltSynonymData) newData;
+		if (!isValueNull() ? !getValue().equals(other.getValue()) : !other.isValueNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AltSynonymData copy = new AltSynonymData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AltSynonymData copy = new AltSynonymData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "productId: "+(""+getProductId())+ " / ";
+		result += "synonymTypeId: "+(""+getSynonymTypeId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.AltSynonymData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AltSynonymFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AltSynonymFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AltSynonymData";
+	}
+}
@@ -0,0 +1,344 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimal;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalAbstract;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalData;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalFinder;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class AnimalGroupAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private int id;
+	private String name;
+	private int type;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isTypeNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.id);
+		out.writeObject(this.name);
+		out.writeInt(this.type);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		AnimalGroupData data = new AnimalGroupData();
+		data.setId(id);
+		data.setName(name);
+		data.setType(type);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public AnimalGroup getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		AnimalGroupAbstract copy = (AnimalGroupAbstract) AnimalGroupFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (AnimalGroup)copy;
+	}
+
+	protected void zSetFromAnimalGroupData(AnimalGroupData data)
+	{
+		this.setFromAnimalGroupData(data);
+	}
+
+	public void setFromAnimalGroupData(AnimalGroupData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		id = data.getId();
+		name = data.getName();
+		type = data.getType();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AnimalGroupFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromAnimalGroupData((AnimalGroupData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, AnimalGroupFinder.isFullCache());
+	}
+
+	public int getType()
+	{
+		if (isTypeNull()) throwNullPrimitiveException("type");
+		return this.type;
+	}
+
+	public void setType(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.type = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setTypeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TxAnimal.animalGroupId = this.id</pre>
+	* @see TxAnimal#getGroup() reverse relationship TxAnimal.getGroup()
+	* @return animal
+	*/
+	public TxAnimalList getAnimal()
+	{
+		TxAnimalList _result = null;
+		if (_relationships != null)
+		{
+			_result = (TxAnimalList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new TxAnimalList(zGetAnimalOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setAnimal(TxAnimalList animal)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = animal;
+	}
+
+	public Operation zGetAnimalOperation()
+	{
+		AnimalGroupAbstract _data = this;
+		return TxAnimalFinder.animalGroupId().eq(_data.getId());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final AnimalGroupData animalGroupData = (AnimalGroupData) newData;
+		if (isNullBits0 != animalGroupData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(animalGroupData.getName()) : !animalGroupData.isNameNull())
+		{
+			return true;
+		}
+
+		if (type != animalGroupData.getType())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.id = in.readInt();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AnimalGroupFinder.isFullCache());
+			this.type = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = AnimalGroupFinder.id().eq(this.getId());
+			return AnimalGroupFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,364 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimal;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalAbstract;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalData;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalFinder;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AnimalGroupData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private int id;
+	private String name;
+	private int type;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isTypeNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.id);
+		out.writeObject(this.name);
+		out.writeInt(this.type);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, AnimalGroupFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public int getType()
+	{
+		return this.type;
+	}
+
+	public void setType(int value)
+	{
+		this.type = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setTypeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(AnimalGroupData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.id = this.id;
+		copy.name = this.name;
+		copy.type = this.type;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.id = in.readInt();
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AnimalGroupFinder.isFullCache());
+		this.type = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AnimalGroupData otherData = (AnimalGroupData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getAnimal()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setAnimal(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AnimalGroupData animalGroupData = (AnimalGroupData) newData;
+		this.setName(animalGroupData.getName());
+		this.setType(animalGroupData.getType());
+		if (animalGroupData.isTypeNull()) this.setTypeNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AnimalGroupData other = (AnimalGroupData) newData;
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		if ( isTypeNull() != other.isTypeNull() || getType() != other.getType())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AnimalGroupData copy = new AnimalGroupData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AnimalGroupData copy = new AnimalGroupData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.AnimalGroupData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AnimalGroupFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AnimalGroupFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AnimalGroupData";
+	}
+}
@@ -0,0 +1,673 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimal;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalAbstract;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalData;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalFinder;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AnimalGroupFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AnimalGroup";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AnimalGroup";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AnimalGroup");
+	private static final AnimalGroupSingleFinder<AnimalGroup, Object, AnimalGroup> finder = new AnimalGroupSingleFinder<AnimalGroup, Object, AnimalGroup>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AnimalGroupFinder.AnimalGroupRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("type");
+		finderMethodMap.addRelationshipName("animal");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AnimalGroup findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AnimalGroup findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AnimalGroupList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AnimalGroupList) finder.findMany(operation);
+	}
+
+	public static AnimalGroupList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AnimalGroupList) finder.findManyBypassCache(operation);
+	}
+
+	private static AnimalGroup findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AnimalGroup) FinderUtils.findOne(found);
+	}
+
+	public static AnimalGroup findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AnimalGroup _castedTargetData = (AnimalGroup) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static AnimalGroup zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AnimalGroup) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AnimalGroupRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AnimalGroup, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private IntegerAttribute<ParentOwnerType> type;
+		private AnimalGroupAnimalFinderSubclass<ParentOwnerType> animal;
+		public AnimalGroupRelatedFinder()
+		{
+			super();
+		}
+
+		public AnimalGroupRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AnimalGroupFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AnimalGroupFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AnimalGroupFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AnimalGroupFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.id();
+			attributes[1] = this.name();
+			attributes[2] = this.type();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.animal());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AnimalGroup findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AnimalGroupFinder.findOne(operation, false);
+		}
+
+		public AnimalGroup findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AnimalGroupFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AnimalGroup> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AnimalGroupList((Operation) operation);
+		}
+
+		public MithraList<? extends AnimalGroup> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AnimalGroupList result = (AnimalGroupList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AnimalGroup> constructEmptyList()
+		{
+			return new AnimalGroupList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 804229473;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AnimalGroupFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,128,true, false) :
+					new MappedStringAttribute(AnimalGroupFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> type()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.type;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("\"TYPE\"","","type",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AnimalGroupFinder.type(), this.mapper, this.zGetValueSelector());
+				this.type = result;
+			}
+
+			return result;
+		}
+
+		public TxAnimalFinder.TxAnimalCollectionFinderForRelatedClasses<ParentOwnerType, TxAnimalList, AnimalGroup> animal()
+		{
+			AnimalGroupAnimalFinderSubclass<ParentOwnerType> result = this.animal;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TxAnimalFinder.zGetTxAnimalGroupMapper());
+				newMapper.setToMany(true);
+				result = new AnimalGroupAnimalFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.animal = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AnimalGroupFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AnimalGroupFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AnimalGroupCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AnimalGroupRelatedFinder<ParentOwnerType, ReturnType, AnimalGroupList, OwnerType>
+	{
+		public AnimalGroupCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AnimalGroupCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AnimalGroupCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AnimalGroupCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AnimalGroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AnimalGroupRelatedFinder<ParentOwnerType, ReturnType, AnimalGroupList, OwnerType>
+	implements ToOneFinder
+	{
+		public AnimalGroupSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AnimalGroupSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AnimalGroup other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AnimalGroup findByPrimaryKey(int id)
+		{
+			AnimalGroup _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AnimalGroup) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AnimalGroupSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AnimalGroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AnimalGroupSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to ANIMAL_GROUP_TBL.ID **/
+	public static IntegerAttribute<AnimalGroup> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to ANIMAL_GROUP_TBL."NAME" **/
+	public static StringAttribute<AnimalGroup> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to ANIMAL_GROUP_TBL."TYPE" **/
+	public static IntegerAttribute<AnimalGroup> type()
+	{
+		return finder.type();
+	}
+
+	public static TxAnimalFinder.TxAnimalCollectionFinderForRelatedClasses<AnimalGroup, TxAnimalList, AnimalGroup> animal()
+	{
+		return finder.animal();
+	}
+
+	public static class AnimalGroupAnimalFinderSubclass<ParentOwnerType> extends TxAnimalFinder.TxAnimalCollectionFinderForRelatedClasses<ParentOwnerType, TxAnimalList, AnimalGroup>
+	{
+		public AnimalGroupAnimalFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "animal";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AnimalGroupAnimalFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TxAnimalList plainValueOf(AnimalGroup _obj)
+		{
+			return _obj.getAnimal();
+		}
+
+		protected TxAnimalList plainListValueOf(Object _obj)
+		{
+			return ((AnimalGroupList)_obj).getAnimal();
+		}
+	}
+
+	public static Operation eq(AnimalGroup other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static AnimalGroupSingleFinder<AnimalGroup, Object, AnimalGroup> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AnimalGroup");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,597 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class AuditOnlyBalanceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		AuditOnlyBalanceFinder.processingDate()
+	, AuditOnlyBalanceFinder.zGetDoubleAttributes(),AuditOnlyBalanceFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(AuditOnlyBalance.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public AuditOnlyBalanceAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditOnlyBalanceFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AuditOnlyBalanceData zSynchronizedGetData()
+	{
+		return (AuditOnlyBalanceData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !AuditOnlyBalanceFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public AuditOnlyBalance zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditOnlyBalance original = (AuditOnlyBalance) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			AuditOnlyBalanceFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public AuditOnlyBalance getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditOnlyBalanceAbstract result = (AuditOnlyBalanceAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (AuditOnlyBalance ) result;
+	}
+
+	public AuditOnlyBalance zFindOriginal()
+	{
+		AuditOnlyBalanceData data = (AuditOnlyBalanceData) this.currentData;
+		Operation op;
+		op = AuditOnlyBalanceFinder.balanceId().eq(data.getBalanceId());
+		op = op.and(AuditOnlyBalanceFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(AuditOnlyBalanceFinder.processingDate().eq(this.getProcessingDate()));
+		return AuditOnlyBalanceFinder.findOne(op);
+	}
+
+	public AuditOnlyBalance getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditOnlyBalanceAbstract result = (AuditOnlyBalanceAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (AuditOnlyBalance ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public AuditOnlyBalance copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (AuditOnlyBalance) behavior.updateOriginalOrInsert(this);
+	}
+
+	public AuditOnlyBalance copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AuditOnlyBalance) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			AuditOnlyBalanceData data = (AuditOnlyBalanceData) this.currentData;
+			Operation op = AuditOnlyBalanceFinder.processingDate().eq(this.processingDate);
+			op = op.and(AuditOnlyBalanceFinder.balanceId().eq(data.getBalanceId()));
+			op = op.and(AuditOnlyBalanceFinder.acmapCode().eq(data.getAcmapCode()));
+			return AuditOnlyBalanceFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceIdNull()
+	{
+		return this.zSynchronizedGetData().isBalanceIdNull();
+	}
+
+	public boolean isInterestNull()
+	{
+		return this.zSynchronizedGetData().isInterestNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(AuditOnlyBalanceFinder.acmapCode(), newValue, false );
+	}
+
+	public int getBalanceId()
+	{
+		return this.zSynchronizedGetData().getBalanceId();
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(AuditOnlyBalanceFinder.balanceId(), newValue, true ,false);
+	}
+
+	public double getInterest()
+	{
+		return this.zSynchronizedGetData().getInterest();
+	}
+
+	public void setInterest(double newValue)
+	{
+		zSetDouble(AuditOnlyBalanceFinder.interest(), newValue, false ,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditOnlyBalanceFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditOnlyBalanceFinder.processingDateTo(), newValue, false );
+	}
+
+	public double getQuantity()
+	{
+		return this.zSynchronizedGetData().getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(AuditOnlyBalanceFinder.quantity(), newValue, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AuditOnlyBalanceData _newData = (AuditOnlyBalanceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		AuditOnlyBalanceData _newData = (AuditOnlyBalanceData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		AuditOnlyBalanceData _newData = (AuditOnlyBalanceData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditOnlyBalanceData _data = (AuditOnlyBalanceData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditOnlyBalanceFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditOnlyBalanceFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+					_result = new AuditOnlyBalanceList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditOnlyBalanceList) _data.getAuditedBalanceByInterest();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditOnlyBalanceFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setAuditedBalanceByInterest(AuditOnlyBalanceList auditedBalanceByInterest)
+	{
+		AuditOnlyBalanceList _auditedBalanceByInterest = (AuditOnlyBalanceList) auditedBalanceByInterest;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditOnlyBalanceData _data = (AuditOnlyBalanceData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAuditedBalanceByInterest(_auditedBalanceByInterest);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return audited balance by interest for quantity
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterestForQuantity(double quantity)
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditOnlyBalanceData _data = (AuditOnlyBalanceData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = AuditOnlyBalanceFinder.interest().eq(_data.getQuantity()).and(AuditOnlyBalanceFinder.acmapCode().eq(_data.getAcmapCode())).and(AuditOnlyBalanceFinder.processingDate().eq(this.getProcessingDate())).and(AuditOnlyBalanceFinder.quantity().greaterThan(quantity));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest and AuditOnlyBalance.quantity > {quantity}
+	and this.quantity > 1</pre>
+	* @return audited balance by interest for quantity with check
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterestForQuantityWithCheck(double quantity)
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditOnlyBalanceData _data = (AuditOnlyBalanceData) _behavior.getCurrentDataForRead(this);
+		{
+			if (_data.getQuantity()>1)
+			{
+				{
+					_op = AuditOnlyBalanceFinder.interest().eq(_data.getQuantity()).and(AuditOnlyBalanceFinder.acmapCode().eq(_data.getAcmapCode())).and(AuditOnlyBalanceFinder.processingDate().eq(this.getProcessingDate())).and(AuditOnlyBalanceFinder.quantity().greaterThan(quantity));
+				}
+			}
+			else 
+			{
+				_result = new AuditOnlyBalanceList( new None (
+					AuditOnlyBalanceFinder.balanceId()));
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditOnlyBalanceFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AuditOnlyBalanceData.AuditOnlyBalanceDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditOnlyBalanceData data = (AuditOnlyBalanceData) AuditOnlyBalanceFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditOnlyBalance has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromAuditOnlyBalanceData( AuditOnlyBalanceData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromAuditOnlyBalanceData( AuditOnlyBalanceData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) AuditOnlyBalanceFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditOnlyBalanceFinder.getMithraObjectPortal();
+	}
+
+	public AuditOnlyBalance getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(AuditOnlyBalanceAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		AuditOnlyBalanceAbstract from = (AuditOnlyBalanceAbstract) f;
+		AuditOnlyBalanceData newData = from.zSynchronizedGetData();
+		this.setInterest(newData.getInterest());
+		this.setQuantity(newData.getQuantity());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		AuditOnlyBalanceData newData = (AuditOnlyBalanceData) d;
+		AuditOnlyBalanceData data = (AuditOnlyBalanceData) nd;
+		if (AuditOnlyBalanceFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AuditOnlyBalanceFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditOnlyBalanceFinder.balanceId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AuditOnlyBalanceFinder.interest(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AuditOnlyBalanceFinder.quantity(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditOnlyBalanceData data = ((AuditOnlyBalanceData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditOnlyBalanceData data = ((AuditOnlyBalanceData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		AuditOnlyBalanceData data = ((AuditOnlyBalanceData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditOnlyBalanceFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditOnlyBalanceData localData = (AuditOnlyBalanceData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,963 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AuditOnlyBalanceData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 44;
+	boolean isAcmapCodeNull();
+	String getAcmapCode();
+	void setAcmapCode(String value);
+	void setAcmapCodeNull();
+	int zGetAcmapCodeAsInt();
+	boolean isBalanceIdNull();
+	int getBalanceId();
+	void setBalanceId(int value);
+	void setBalanceIdNull();
+	boolean isInterestNull();
+	double getInterest();
+	void setInterest(double value);
+	void setInterestNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isQuantityNull();
+	double getQuantity();
+	void setQuantity(double value);
+	void setQuantityNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getAuditedBalanceByInterest();
+	void setAuditedBalanceByInterest(Object related);
+	public class AuditOnlyBalanceDataOnHeap implements AuditOnlyBalanceData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private String acmapCode;
+		private int balanceId;
+		private double interest;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private double quantity;
+		public boolean isAcmapCodeNull()
+		{
+			return this.getAcmapCode() == null;
+		}
+
+		public boolean isBalanceIdNull()
+		{
+			return false;
+		}
+
+		public boolean isInterestNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isQuantityNull()
+		{
+			return false;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.acmapCode);
+			out.writeInt(this.balanceId);
+			out.writeDouble(this.interest);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditOnlyBalanceFinder.processingDate().getInfinityDate());
+			out.writeDouble(this.quantity);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getAcmapCode()
+		{
+			return this.acmapCode;
+		}
+
+		public int zGetAcmapCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(acmapCode);
+		}
+
+		public void setAcmapCode(String value)
+		{
+			this.acmapCode = StringPool.getInstance().getOrAddToCache(value, AuditOnlyBalanceFinder.isFullCache());
+		}
+
+		public void setAcmapCodeNull()
+		{
+			this.setAcmapCode(null);
+		}
+
+		public int getBalanceId()
+		{
+			return this.balanceId;
+		}
+
+		public void setBalanceId(int value)
+		{
+			this.balanceId = value;
+		}
+
+		public void setBalanceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getInterest()
+		{
+			return this.interest;
+		}
+
+		public void setInterest(double value)
+		{
+			this.interest = value;
+		}
+
+		public void setInterestNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, AuditOnlyBalanceFinder.isFullCache(), AuditOnlyBalanceFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, AuditOnlyBalanceFinder.isFullCache(), AuditOnlyBalanceFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getQuantity()
+		{
+			return this.quantity;
+		}
+
+		public void setQuantity(double value)
+		{
+			this.quantity = value;
+		}
+
+		public void setQuantityNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(AuditOnlyBalanceDataOnHeap copy, boolean withRelationships)
+		{
+			copy.acmapCode = this.acmapCode;
+			copy.balanceId = this.balanceId;
+			copy.interest = this.interest;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.quantity = this.quantity;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditOnlyBalanceFinder.isFullCache());
+			this.balanceId = in.readInt();
+			this.interest = in.readDouble();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditOnlyBalanceFinder.isFullCache(), AuditOnlyBalanceFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditOnlyBalanceFinder.processingDate().getInfinityDate()), AuditOnlyBalanceFinder.isFullCache(), AuditOnlyBalanceFinder.isOffHeap());
+			this.quantity = in.readDouble();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final AuditOnlyBalanceData otherData = (AuditOnlyBalanceData) other;
+			if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+			{
+				return false;
+			}
+
+			if (getBalanceId() != otherData.getBalanceId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.acmapCode);
+			out.writeInt(this.balanceId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditOnlyBalanceFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditOnlyBalanceFinder.isFullCache());
+			this.balanceId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditOnlyBalanceFinder.isFullCache(), AuditOnlyBalanceFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditOnlyBalanceFinder.processingDate().getInfinityDate()), AuditOnlyBalanceFinder.isFullCache(), AuditOnlyBalanceFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getAuditedBalanceByInterest()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setAuditedBalanceByInterest(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			AuditOnlyBalanceDataOffHeap data = new AuditOnlyBalanceDataOffHeap();
+			data.setAcmapCode(this.getAcmapCode());
+			data.setBalanceId(this.getBalanceId());
+			data.setInterest(this.getInterest());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setQuantity(this.getQuantity());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditOnlyBalanceData auditOnlyBalanceData = (AuditOnlyBalanceData) newData;
+			this.setAcmapCode(auditOnlyBalanceData.getAcmapCode());
+			this.setInterest(auditOnlyBalanceData.getInterest());
+			this.setProcessingDateFrom(auditOnlyBalanceData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditOnlyBalanceData.getProcessingDateTo());
+			this.setQuantity(auditOnlyBalanceData.getQuantity());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditOnlyBalanceData other = (AuditOnlyBalanceData) newData;
+			if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getInterest() - other.getInterest()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( Math.abs(getQuantity() - other.getQuantity()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditOnlyBalanceDataOnHeap copy = new AuditOnlyBalanceDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditOnlyBalanceDataOnHeap copy = new AuditOnlyBalanceDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+			result += "balanceId: "+(""+getBalanceId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditOnlyBalanceData otherData = (AuditOnlyBalanceData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditOnlyBalanceData otherData = (AuditOnlyBalanceData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditOnlyBalanceData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditOnlyBalanceFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditOnlyBalanceFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditOnlyBalanceData";
+		}
+	}
+
+	public class AuditOnlyBalanceDataOffHeap extends MithraOffHeapDataObject implements AuditOnlyBalanceData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public AuditOnlyBalanceDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 28);
+		}
+
+		public AuditOnlyBalanceDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAcmapCodeNull()
+		{
+			return zIsStringNull(_storage, 4);
+		}
+
+		public boolean isBalanceIdNull()
+		{
+			return false;
+		}
+
+		public boolean isInterestNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public boolean isQuantityNull()
+		{
+			return false;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAcmapCode());
+			out.writeInt(this.getBalanceId());
+			out.writeDouble(this.getInterest());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditOnlyBalanceFinder.processingDate().getInfinityDate());
+			out.writeDouble(this.getQuantity());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getAcmapCode()
+		{
+			return zGetString(_storage, 4);
+		}
+
+		public int zGetAcmapCodeAsInt()
+		{
+			return zGetInteger(_storage, 4);
+		}
+
+		public void setAcmapCode(String value)
+		{
+			zSetString(_storage, value, 4);
+		}
+
+		public void setAcmapCodeNull()
+		{
+			this.setAcmapCode(null);
+		}
+
+		public int getBalanceId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setBalanceId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setBalanceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getInterest()
+		{
+			return zGetDouble(_storage, 12);
+		}
+
+		public void setInterest(double value)
+		{
+			zSetDouble(_storage, value, 12, -1, -1);
+		}
+
+		public void setInterestNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getQuantity()
+		{
+			return zGetDouble(_storage, 36);
+		}
+
+		public void setQuantity(double value)
+		{
+			zSetDouble(_storage, value, 36, -1, -1);
+		}
+
+		public void setQuantityNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(AuditOnlyBalanceDataOnHeap copy, boolean withRelationships)
+		{
+			copy.acmapCode = this.getAcmapCode();
+			copy.balanceId = this.getBalanceId();
+			copy.interest = this.getInterest();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.quantity = this.getQuantity();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 4);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 12, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetDouble(_storage, in.readDouble(), 36, -1, -1, false);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof AuditOnlyBalanceDataOffHeap)
+			{
+				final AuditOnlyBalanceDataOffHeap otherData = (AuditOnlyBalanceDataOffHeap) other;
+				if (this.zGetInteger(_storage, 4) != otherData.zGetInteger(_storage, 4))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final AuditOnlyBalanceData otherData = (AuditOnlyBalanceData) other;
+			if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+			{
+				return false;
+			}
+
+			if (getBalanceId() != otherData.getBalanceId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.getAcmapCode());
+			out.writeInt(this.getBalanceId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditOnlyBalanceFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 4);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getAuditedBalanceByInterest()
+		{
+			return null;
+		}
+
+		public void setAuditedBalanceByInterest(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditOnlyBalanceData auditOnlyBalanceData = (AuditOnlyBalanceData) newData;
+			this.setAcmapCode(auditOnlyBalanceData.getAcmapCode());
+			this.setInterest(auditOnlyBalanceData.getInterest());
+			this.setProcessingDateFrom(auditOnlyBalanceData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditOnlyBalanceData.getProcessingDateTo());
+			this.setQuantity(auditOnlyBalanceData.getQuantity());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditOnlyBalanceData other = (AuditOnlyBalanceData) newData;
+			if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getInterest() - other.getInterest()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( Math.abs(getQuantity() - other.getQuantity()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditOnlyBalanceDataOnHeap copy = new AuditOnlyBalanceDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditOnlyBalanceDataOnHeap copy = new AuditOnlyBalanceDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+			result += "balanceId: "+(""+getBalanceId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditOnlyBalanceData otherData = (AuditOnlyBalanceData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditOnlyBalanceData otherData = (AuditOnlyBalanceData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditOnlyBalanceData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditOnlyBalanceFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditOnlyBalanceFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditOnlyBalanceData";
+		}
+	}
+}
@@ -0,0 +1,528 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AuditOnlyBalanceDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "POS_QUANTITY_M,POS_INTEREST_M,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.POS_QUANTITY_M,t0.POS_INTEREST_M,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.BALANCE_ID = ?";
+	private static final String PK_INDEX_COLS = "BALANCE_ID";
+	protected AuditOnlyBalanceDatabaseObjectAbstract()
+	{
+		super("AuditOnlyBalance", "com.gs.fw.common.mithra.test.domain.AuditOnlyBalanceFinder",
+			5, 5,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditOnlyBalanceFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AuditOnlyBalanceFinder.getFinderInstance();
+	}
+
+	public static AuditOnlyBalanceData allocateOnHeapData()
+	{
+		return new AuditOnlyBalanceData.AuditOnlyBalanceDataOnHeap();
+	}
+
+	public static AuditOnlyBalanceData allocateOffHeapData()
+	{
+		return new AuditOnlyBalanceData.AuditOnlyBalanceDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AuditOnlyBalanceData.AuditOnlyBalanceDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditOnlyBalanceFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AuditOnlyBalanceData data = new AuditOnlyBalanceData.AuditOnlyBalanceDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditOnlyBalanceFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(AuditOnlyBalanceData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.AuditOnlyBalance", AuditOnlyBalanceFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("AuditOnlyBalance"));
+			AuditOnlyBalanceData.AuditOnlyBalanceDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(AuditOnlyBalanceFinder.getPrimaryKeyAttributes(), AuditOnlyBalanceFinder.getAsOfAttributes(), this, AuditOnlyBalanceFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(AuditOnlyBalanceFinder.getPrimaryKeyAttributes(), AuditOnlyBalanceFinder.getAsOfAttributes(), this, AuditOnlyBalanceFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(AuditOnlyBalanceFinder.getPrimaryKeyAttributes(), AuditOnlyBalanceFinder.getAsOfAttributes(), this, AuditOnlyBalanceFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(AuditOnlyBalanceFinder.getPrimaryKeyAttributes(), AuditOnlyBalanceFinder.getAsOfAttributes(), this, AuditOnlyBalanceFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(AuditOnlyBalanceFinder.getPrimaryKeyAttributes(), AuditOnlyBalanceFinder.getAsOfAttributes(), this, AuditOnlyBalanceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(AuditOnlyBalanceData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.AuditOnlyBalance", AuditOnlyBalanceFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			AuditOnlyBalanceData.AuditOnlyBalanceDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(AuditOnlyBalanceFinder.getPrimaryKeyAttributes(), AuditOnlyBalanceFinder.getAsOfAttributes(), this, AuditOnlyBalanceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(AuditOnlyBalanceFinder.getPrimaryKeyAttributes(), AuditOnlyBalanceFinder.getAsOfAttributes(), this, AuditOnlyBalanceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AuditOnlyBalanceFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AuditOnlyBalanceFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AuditOnlyBalance.zConfigFullTx();
+		}
+		else
+		{
+			AuditOnlyBalance.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		AuditOnlyBalanceData data = (AuditOnlyBalanceData)object;
+		return data.getAcmapCode();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAuditOnlyBalanceData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAuditOnlyBalanceData(1, (AuditOnlyBalanceData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAuditOnlyBalancePkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAuditOnlyBalanceTableName(((String)source));
+	}
+
+	public String getAuditOnlyBalanceTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditOnlyBalanceData data = (AuditOnlyBalanceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (AuditOnlyBalanceFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditOnlyBalanceData data = (AuditOnlyBalanceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getBalanceId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == AuditOnlyBalanceFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (AuditOnlyBalanceFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "BALANCE_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.BALANCE_ID,t0.POS_QUANTITY_M,t0.POS_INTEREST_M,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*5);
+		result.append(databaseAlias).append(".").append("BALANCE_ID");
+		result.append(",").append(databaseAlias).append(".").append("POS_QUANTITY_M");
+		result.append(",").append(databaseAlias).append(".").append("POS_INTEREST_M");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AuditOnlyBalanceData inflateAuditOnlyBalanceData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		AuditOnlyBalanceData data = inflateAuditOnlyBalancePkData(rs, dt, sourceAttribute);
+		inflateNonPkAuditOnlyBalanceData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public AuditOnlyBalanceData inflateAuditOnlyBalancePkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		AuditOnlyBalanceData _data = new AuditOnlyBalanceData.AuditOnlyBalanceDataOnHeap();
+		int _pos = 1;
+		_data.setAcmapCode(sourceAttribute);
+		_data.setBalanceId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "balanceId");
+		return _data;
+	}
+
+	public void inflateNonPkAuditOnlyBalanceData(int _pos, AuditOnlyBalanceData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			AuditOnlyBalanceData _data = _datax;
+			_data.setQuantity(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "quantity");
+			_data.setInterest(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "interest");
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				AuditOnlyBalanceFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public String getFullyQualifiedTableName(String sourceAttribute)
+	{
+		String schema = this.getSchemaGenericSource(sourceAttribute);
+		String tableName = getAuditOnlyBalanceTableName(sourceAttribute);
+		return this.getDatabaseType(sourceAttribute).getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "AUDIT_ONLY_BALANCE";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AuditOnlyBalanceData data = (AuditOnlyBalanceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getBalanceId());
+		stm.setDouble(pos++, data.getQuantity());
+		stm.setDouble(pos++, data.getInterest());
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == AuditOnlyBalanceFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "BALANCE_ID,POS_QUANTITY_M,POS_INTEREST_M,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		AuditOnlyBalance newObject = new AuditOnlyBalance(asOfDates[0]
+		);
+		newObject.zSetFromAuditOnlyBalanceData((AuditOnlyBalanceData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new AuditOnlyTransactionalDataContainer(tx.getPerPortalTemporalContainer(AuditOnlyBalanceFinder.getMithraObjectPortal(),
+			AuditOnlyBalanceFinder.processingDate())
+		);
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditOnlyBalanceData data = (AuditOnlyBalanceData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getBalanceId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		throw new RuntimeException("not implemented");
+	}
+}
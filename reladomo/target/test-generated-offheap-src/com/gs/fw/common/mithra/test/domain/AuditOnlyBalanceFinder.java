@@ -0,0 +1,1132 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditOnlyBalanceFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditOnlyBalance";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditOnlyBalance";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditOnlyBalance");
+	private static final AuditOnlyBalanceSingleFinder<AuditOnlyBalance, Object, AuditOnlyBalance> finder = new AuditOnlyBalanceSingleFinder<AuditOnlyBalance, Object, AuditOnlyBalance>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditOnlyBalanceFinder.AuditOnlyBalanceRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("balanceId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("interest");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("auditedBalanceByInterest");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = AuditOnlyBalanceFinder.quantity().constructEqualityMapper(AuditOnlyBalanceFinder.interest());
+			result[1] = AuditOnlyBalanceFinder.interest().constructEqualityMapper(AuditOnlyBalanceFinder.quantity());
+			result[2] = AuditOnlyBalanceFinder.acmapCode().constructEqualityMapper(AuditOnlyBalanceFinder.acmapCode());
+			result[3] = AuditOnlyBalanceFinder.processingDate().constructEqualityMapper(AuditOnlyBalanceFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = AuditOnlyBalanceFinder.quantity().greaterThan(1);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return AuditOnlyBalanceFinder.zSourceAttributeType;
+	}
+
+	public static AuditOnlyBalance findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditOnlyBalance findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditOnlyBalanceList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditOnlyBalanceList) finder.findMany(operation);
+	}
+
+	public static AuditOnlyBalanceList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditOnlyBalanceList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditOnlyBalance findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditOnlyBalance) FinderUtils.findOne(found);
+	}
+
+	public static AuditOnlyBalance findByPrimaryKey(int balanceId, String acmapCode, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(balanceId, acmapCode, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditOnlyBalanceData _castedTargetData = (AuditOnlyBalanceData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getBalanceId() && _bean.getO1AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return AuditOnlyBalanceFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static AuditOnlyBalance zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditOnlyBalance) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditOnlyBalanceRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditOnlyBalance, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return AuditOnlyBalanceFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> balanceId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> interest;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AuditOnlyBalanceAuditedBalanceByInterestFinderSubclass<ParentOwnerType> auditedBalanceByInterest;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditOnlyBalanceRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditOnlyBalanceRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditOnlyBalanceFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditOnlyBalanceFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditOnlyBalanceFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditOnlyBalanceFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.balanceId();
+			attributes[1] = this.quantity();
+			attributes[2] = this.interest();
+			attributes[3] = this.processingDateFrom();
+			attributes[4] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.auditedBalanceByInterest());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditOnlyBalance findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditOnlyBalanceFinder.findOne(operation, false);
+		}
+
+		public AuditOnlyBalance findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditOnlyBalanceFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditOnlyBalance> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditOnlyBalanceList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditOnlyBalance> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditOnlyBalanceList result = (AuditOnlyBalanceList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditOnlyBalance> constructEmptyList()
+		{
+			return new AuditOnlyBalanceList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 2063585102;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return AuditOnlyBalanceFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> balanceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.balanceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("BALANCE_ID","","balanceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditOnlyBalanceFinder.balanceId(), this.mapper, this.zGetValueSelector());
+				this.balanceId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_QUANTITY_M","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,36,-1,-1, false) :
+					new MappedDoubleAttribute(AuditOnlyBalanceFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interest()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interest;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_INTEREST_M","","interest",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,12,-1,-1, false) :
+					new MappedDoubleAttribute(AuditOnlyBalanceFinder.interest(), this.mapper, this.zGetValueSelector());
+				this.interest = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditOnlyBalanceFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditOnlyBalanceFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditOnlyBalanceFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditOnlyBalanceFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,4,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(AuditOnlyBalanceFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),AuditOnlyBalanceFinder.processingDateInfinity,false,false,AuditOnlyBalanceFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditOnlyBalanceFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, AuditOnlyBalance> auditedBalanceByInterest()
+		{
+			AuditOnlyBalanceAuditedBalanceByInterestFinderSubclass<ParentOwnerType> result = this.auditedBalanceByInterest;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditOnlyBalanceFinder.zGetAuditOnlyBalanceAuditedBalanceByInterestReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditOnlyBalanceAuditedBalanceByInterestFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.auditedBalanceByInterest = result;
+			}
+
+			return result;
+		}
+
+		public AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, AuditOnlyBalance> auditedBalanceByInterestForQuantity(double quantity)
+		{
+			AuditOnlyBalanceAuditedBalanceByInterestForQuantityFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(AuditOnlyBalanceFinder.zGetAuditOnlyBalanceAuditedBalanceByInterestForQuantityReverseMapper(quantity));
+			newMapper.setToMany(true);
+			result = new AuditOnlyBalanceAuditedBalanceByInterestForQuantityFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,quantity);
+			return result;
+		}
+
+		public AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, AuditOnlyBalance> auditedBalanceByInterestForQuantityWithCheck(double quantity)
+		{
+			AuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(AuditOnlyBalanceFinder.zGetAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckReverseMapper(quantity));
+			newMapper.setToMany(true);
+			result = new AuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,quantity);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return AuditOnlyBalanceFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditOnlyBalanceFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditOnlyBalanceFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditOnlyBalanceCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditOnlyBalanceRelatedFinder<ParentOwnerType, ReturnType, AuditOnlyBalanceList, OwnerType>
+	{
+		public AuditOnlyBalanceCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditOnlyBalanceCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditOnlyBalanceCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditOnlyBalanceSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditOnlyBalanceRelatedFinder<ParentOwnerType, ReturnType, AuditOnlyBalanceList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditOnlyBalanceSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditOnlyBalanceSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditOnlyBalance other)
+		{
+			return this.balanceId().eq(other.getBalanceId())
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditOnlyBalance findByPrimaryKey(int balanceId, String acmapCode, Timestamp processingDate)
+		{
+			AuditOnlyBalance _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(balanceId);
+				_bean.setO1(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditOnlyBalance) _related;
+			if (_related == null)
+			{
+				_op = this.balanceId().eq(balanceId).and(this.acmapCode().eq(acmapCode)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditOnlyBalanceSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditOnlyBalanceSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditOnlyBalanceSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper auditedBalanceByInterestReverseMapper = null;
+	public static Mapper zGetAuditOnlyBalanceAuditedBalanceByInterestReverseMapper()
+	{
+		if (auditedBalanceByInterestReverseMapper == null)
+		{
+			auditedBalanceByInterestReverseMapper = zConstructAuditOnlyBalanceAuditedBalanceByInterestReverseMapper();
+		}
+
+		return auditedBalanceByInterestReverseMapper;
+	}
+
+	private static Mapper auditedBalanceByInterestMapper = null;
+	public static Mapper zGetAuditOnlyBalanceAuditedBalanceByInterestMapper()
+	{
+		if (auditedBalanceByInterestMapper == null)
+		{
+			auditedBalanceByInterestMapper = zConstructAuditOnlyBalanceAuditedBalanceByInterestMapper();
+		}
+
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper auditedBalanceByInterestPureReverseMapper = null;
+	public static Mapper zGetAuditOnlyBalanceAuditedBalanceByInterestPureReverseMapper()
+	{
+		if (auditedBalanceByInterestPureReverseMapper == null)
+		{
+			auditedBalanceByInterestPureReverseMapper = zConstructAuditOnlyBalanceAuditedBalanceByInterestPureReverseMapper();
+		}
+
+		return auditedBalanceByInterestPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditOnlyBalanceAuditedBalanceByInterestPureReverseMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(2));
+		auditedBalanceByInterestMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest");
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructAuditOnlyBalanceAuditedBalanceByInterestReverseMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(2));
+		auditedBalanceByInterestMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest");
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructAuditOnlyBalanceAuditedBalanceByInterestMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(1));
+		auditedBalanceByInterestMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(2));
+		auditedBalanceByInterestMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest_Reverse");
+		return auditedBalanceByInterestMapper;
+	}
+
+	public static Mapper zGetAuditOnlyBalanceAuditedBalanceByInterestForQuantityReverseMapper(double quantity)
+	{
+		return zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityReverseMapper(quantity);
+	}
+
+	public static Mapper zGetAuditOnlyBalanceAuditedBalanceByInterestForQuantityMapper(double quantity)
+	{
+		return zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityMapper(quantity);
+	}
+
+	private static Mapper auditedBalanceByInterestForQuantityPureReverseMapper = null;
+	public static Mapper zGetAuditOnlyBalanceAuditedBalanceByInterestForQuantityPureReverseMapper()
+	{
+		if (auditedBalanceByInterestForQuantityPureReverseMapper == null)
+		{
+			auditedBalanceByInterestForQuantityPureReverseMapper = zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityPureReverseMapper();
+		}
+
+		return auditedBalanceByInterestForQuantityPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityPureReverseMapper()
+	{
+		InternalList auditedBalanceByInterestForQuantityMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestForQuantityMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestForQuantityMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(2));
+		auditedBalanceByInterestForQuantityMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestForQuantityMapper = new MultiEqualityMapper(auditedBalanceByInterestForQuantityMapperMapperList);
+		auditedBalanceByInterestForQuantityMapper.setName("auditedBalanceByInterestForQuantity");
+		return auditedBalanceByInterestForQuantityMapper;
+	}
+
+	private static Mapper zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityReverseMapper(double quantity)
+	{
+		InternalList auditedBalanceByInterestForQuantityMapperInnerMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(2));
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestForQuantityMapperInnerMapper = new MultiEqualityMapper(auditedBalanceByInterestForQuantityMapperInnerMapperMapperList);
+		Mapper auditedBalanceByInterestForQuantityMapper = new FilteredMapper(auditedBalanceByInterestForQuantityMapperInnerMapper, null, AuditOnlyBalanceFinder.quantity().greaterThan(quantity));
+		auditedBalanceByInterestForQuantityMapper.setName("auditedBalanceByInterestForQuantity");
+		return auditedBalanceByInterestForQuantityMapper;
+	}
+
+	private static Mapper zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityMapper(double quantity)
+	{
+		InternalList auditedBalanceByInterestForQuantityMapperInnerMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(1));
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(2));
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestForQuantityMapperInnerMapper = new MultiEqualityMapper(auditedBalanceByInterestForQuantityMapperInnerMapperMapperList);
+		Mapper auditedBalanceByInterestForQuantityMapper = new FilteredMapper(auditedBalanceByInterestForQuantityMapperInnerMapper, AuditOnlyBalanceFinder.quantity().greaterThan(quantity), null);
+		auditedBalanceByInterestForQuantityMapper.setName("auditedBalanceByInterestForQuantity_Reverse");
+		return auditedBalanceByInterestForQuantityMapper;
+	}
+
+	public static Mapper zGetAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckReverseMapper(double quantity)
+	{
+		return zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckReverseMapper(quantity);
+	}
+
+	public static Mapper zGetAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckMapper(double quantity)
+	{
+		return zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckMapper(quantity);
+	}
+
+	private static Mapper auditedBalanceByInterestForQuantityWithCheckPureReverseMapper = null;
+	public static Mapper zGetAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckPureReverseMapper()
+	{
+		if (auditedBalanceByInterestForQuantityWithCheckPureReverseMapper == null)
+		{
+			auditedBalanceByInterestForQuantityWithCheckPureReverseMapper = zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckPureReverseMapper();
+		}
+
+		return auditedBalanceByInterestForQuantityWithCheckPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckPureReverseMapper()
+	{
+		InternalList auditedBalanceByInterestForQuantityWithCheckMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestForQuantityWithCheckMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestForQuantityWithCheckMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(2));
+		auditedBalanceByInterestForQuantityWithCheckMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestForQuantityWithCheckMapper = new MultiEqualityMapper(auditedBalanceByInterestForQuantityWithCheckMapperMapperList);
+		auditedBalanceByInterestForQuantityWithCheckMapper.setName("auditedBalanceByInterestForQuantityWithCheck");
+		return auditedBalanceByInterestForQuantityWithCheckMapper;
+	}
+
+	private static Mapper zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckReverseMapper(double quantity)
+	{
+		InternalList auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(2));
+		auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestForQuantityWithCheckMapperInnerMapper = new MultiEqualityMapper(auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList);
+		Mapper auditedBalanceByInterestForQuantityWithCheckMapper = new FilteredMapper(auditedBalanceByInterestForQuantityWithCheckMapperInnerMapper, AuditOnlyBalanceFinder.zGetConstantOperation(0), AuditOnlyBalanceFinder.quantity().greaterThan(quantity));
+		auditedBalanceByInterestForQuantityWithCheckMapper.setName("auditedBalanceByInterestForQuantityWithCheck");
+		return auditedBalanceByInterestForQuantityWithCheckMapper;
+	}
+
+	private static Mapper zConstructAuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckMapper(double quantity)
+	{
+		InternalList auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(1));
+		auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(2));
+		auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList.add(AuditOnlyBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestForQuantityWithCheckMapperInnerMapper = new MultiEqualityMapper(auditedBalanceByInterestForQuantityWithCheckMapperInnerMapperMapperList);
+		Mapper auditedBalanceByInterestForQuantityWithCheckMapper = new FilteredMapper(auditedBalanceByInterestForQuantityWithCheckMapperInnerMapper, AuditOnlyBalanceFinder.quantity().greaterThan(quantity), AuditOnlyBalanceFinder.zGetConstantOperation(0));
+		auditedBalanceByInterestForQuantityWithCheckMapper.setName("auditedBalanceByInterestForQuantityWithCheck_Reverse");
+		return auditedBalanceByInterestForQuantityWithCheckMapper;
+	}
+
+	/** maps to AUDIT_ONLY_BALANCE.BALANCE_ID **/
+	public static IntegerAttribute<AuditOnlyBalance> balanceId()
+	{
+		return finder.balanceId();
+	}
+
+	/** maps to AUDIT_ONLY_BALANCE.POS_QUANTITY_M **/
+	public static DoubleAttribute<AuditOnlyBalance> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to AUDIT_ONLY_BALANCE.POS_INTEREST_M **/
+	public static DoubleAttribute<AuditOnlyBalance> interest()
+	{
+		return finder.interest();
+	}
+
+	/** maps to AUDIT_ONLY_BALANCE.IN_Z **/
+	public static TimestampAttribute<AuditOnlyBalance> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDIT_ONLY_BALANCE.OUT_Z **/
+	public static TimestampAttribute<AuditOnlyBalance> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static StringAttribute<AuditOnlyBalance> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static AsOfAttribute<AuditOnlyBalance> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<AuditOnlyBalance, AuditOnlyBalanceList, AuditOnlyBalance> auditedBalanceByInterest()
+	{
+		return finder.auditedBalanceByInterest();
+	}
+
+	public static class AuditOnlyBalanceAuditedBalanceByInterestFinderSubclass<ParentOwnerType> extends AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, AuditOnlyBalance>
+	{
+		public AuditOnlyBalanceAuditedBalanceByInterestFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "auditedBalanceByInterest";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditOnlyBalanceFinder.acmapCode(),
+				AuditOnlyBalanceFinder.interest(),
+				AuditOnlyBalanceFinder.processingDate()).withExtractors(
+				AuditOnlyBalanceFinder.acmapCode(),
+				AuditOnlyBalanceFinder.quantity(),
+				AuditOnlyBalanceFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditOnlyBalanceAuditedBalanceByInterestFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditOnlyBalanceList plainValueOf(AuditOnlyBalance _obj)
+		{
+			return _obj.getAuditedBalanceByInterest();
+		}
+
+		protected AuditOnlyBalanceList plainListValueOf(Object _obj)
+		{
+			return ((AuditOnlyBalanceList)_obj).getAuditedBalanceByInterest();
+		}
+	}
+
+	public static AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<AuditOnlyBalance, AuditOnlyBalanceList, AuditOnlyBalance> auditedBalanceByInterestForQuantity(double quantity)
+	{
+		return finder.auditedBalanceByInterestForQuantity(quantity);
+	}
+
+	public static class AuditOnlyBalanceAuditedBalanceByInterestForQuantityFinderSubclass<ParentOwnerType> extends AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, AuditOnlyBalance>
+	{
+		private double quantity;
+		public AuditOnlyBalanceAuditedBalanceByInterestForQuantityFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double quantity)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.quantity = quantity;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "auditedBalanceByInterestForQuantity";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditOnlyBalanceAuditedBalanceByInterestForQuantityFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.quantity
+			);
+		}
+
+		protected AuditOnlyBalanceList plainValueOf(AuditOnlyBalance _obj)
+		{
+			return _obj.getAuditedBalanceByInterestForQuantity(quantity);
+		}
+
+		protected AuditOnlyBalanceList plainListValueOf(Object _obj)
+		{
+			return ((AuditOnlyBalanceList)_obj).getAuditedBalanceByInterestForQuantity(quantity);
+		}
+	}
+
+	public static AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<AuditOnlyBalance, AuditOnlyBalanceList, AuditOnlyBalance> auditedBalanceByInterestForQuantityWithCheck(double quantity)
+	{
+		return finder.auditedBalanceByInterestForQuantityWithCheck(quantity);
+	}
+
+	public static class AuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckFinderSubclass<ParentOwnerType> extends AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, AuditOnlyBalance>
+	{
+		private double quantity;
+		public AuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double quantity)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.quantity = quantity;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "auditedBalanceByInterestForQuantityWithCheck";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditOnlyBalanceAuditedBalanceByInterestForQuantityWithCheckFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.quantity
+			);
+		}
+
+		protected AuditOnlyBalanceList plainValueOf(AuditOnlyBalance _obj)
+		{
+			return _obj.getAuditedBalanceByInterestForQuantityWithCheck(quantity);
+		}
+
+		protected AuditOnlyBalanceList plainListValueOf(Object _obj)
+		{
+			return ((AuditOnlyBalanceList)_obj).getAuditedBalanceByInterestForQuantityWithCheck(quantity);
+		}
+	}
+
+	public static Operation eq(AuditOnlyBalance other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(balanceId());
+	}
+
+	public static AuditOnlyBalanceSingleFinder<AuditOnlyBalance, Object, AuditOnlyBalance> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			acmapCode()
+			, quantity()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			acmapCode()
+			, interest()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = quantity();
+		result[1] = interest();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditOnlyBalance");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
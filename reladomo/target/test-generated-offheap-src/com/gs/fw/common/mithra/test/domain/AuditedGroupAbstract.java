@@ -0,0 +1,749 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class AuditedGroupAbstract
+implements MithraDatedObject, Serializable
+{
+	protected AuditedGroupData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy formanager = new ManagerRhs();
+	private static final class ManagerRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedUserFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedGroup _castedSrcObject = (AuditedGroup) _srcObject;
+			AuditedGroupData _castedSrcData = (AuditedGroupData) _srcData;
+			AuditedUserData _castedTargetData = (AuditedUserData) _targetData;
+			if (!_castedSrcData.isManagerIdNull() && _castedSrcData.getManagerId() == _castedTargetData.getId() && _castedSrcData.getSourceId() == _castedTargetData.getSourceId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedGroupData _castedSrcData = (AuditedGroupData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getManagerId(), _castedSrcData.isManagerIdNull()),HashUtil.hash(_castedSrcData.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public AuditedGroupAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedGroupFinder.isFullCache());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromAuditedGroupData( AuditedGroupData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromAuditedGroupData( AuditedGroupData data )
+	{
+		this.setFromAuditedGroupData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromAuditedGroupData( (AuditedGroupData) data );
+	}
+
+	public AuditedGroup getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedGroupAbstract copy = (AuditedGroupAbstract)
+		AuditedGroupFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (AuditedGroup)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedGroupData data = (AuditedGroupData) AuditedGroupFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedGroup has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedGroupFinder.getMithraObjectPortal().getCache();
+	}
+
+	public AuditedGroupData zGetCurrentDataWithCheck()
+	{
+		AuditedGroupData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private AuditedGroupData zRefreshData(AuditedGroupData current)
+	{
+		AuditedGroupData newData = (AuditedGroupData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("AuditedGroup has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(AuditedGroupData current)
+	{
+		boolean refresh = !AuditedGroupFinder.processingDate().dataMatches(current, processingDate);
+		return refresh;
+	}
+
+	private AuditedGroupData zGetOrInitializeInMemoryData()
+	{
+		AuditedGroupData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new AuditedGroupData.AuditedGroupDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		AuditedGroupData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			AuditedGroupData newData = (AuditedGroupData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isIdNull()
+	{
+		return this.currentData.isIdNull();
+	}
+
+	public int getId()
+	{
+		AuditedGroupData data = this.currentData;
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setId(newValue);
+	}
+
+	public boolean isManagerIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isManagerIdNull();
+	}
+
+	public int getManagerId()
+	{
+		AuditedGroupData data = this.zGetCurrentDataWithCheck();
+		if (data.isManagerIdNull())
+		MithraNullPrimitiveException.throwNew("managerId", data);
+		return data.getManagerId();
+	}
+
+	public void setManagerId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setManagerId(newValue);
+	}
+
+	public boolean isNameNull()
+	{
+		return this.zGetCurrentDataWithCheck().isNameNull();
+	}
+
+	public String getName()
+	{
+		AuditedGroupData data = this.zGetCurrentDataWithCheck();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setName(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		AuditedGroupData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		AuditedGroupData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isProfileIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProfileIdNull();
+	}
+
+	public int getProfileId()
+	{
+		AuditedGroupData data = this.zGetCurrentDataWithCheck();
+		if (data.isProfileIdNull())
+		MithraNullPrimitiveException.throwNew("profileId", data);
+		return data.getProfileId();
+	}
+
+	public void setProfileId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProfileId(newValue);
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isSourceIdNull();
+	}
+
+	public int getSourceId()
+	{
+		AuditedGroupData data = this.zGetCurrentDataWithCheck();
+		return data.getSourceId();
+	}
+
+	public void setSourceId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setSourceId(newValue);
+	}
+
+	public boolean isTypeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTypeNull();
+	}
+
+	public int getType()
+	{
+		AuditedGroupData data = this.zGetCurrentDataWithCheck();
+		if (data.isTypeNull())
+		MithraNullPrimitiveException.throwNew("type", data);
+		return data.getType();
+	}
+
+	public void setType(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setType(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setTypeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTypeNull();
+	}
+
+	public void setManagerIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setManagerIdNull();
+	}
+
+	public void setProfileIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProfileIdNull();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.managerId = AuditedUser.id</pre>
+	* @return The manager
+	*/
+	public AuditedUser getManager()
+	{
+		AuditedGroupData _data = ((AuditedGroupData)this.zGetCurrentDataWithCheck());
+		AuditedUser _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedUser) _data.getManager();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isManagerIdNull())
+			{
+				_portal = AuditedUserFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, formanager,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedUser) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedGroupFinder.manager().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = AuditedUserFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(AuditedUserGroup.ownerId = AuditedUser.id and this.id = AuditedUserGroup.dependentId )</pre>
+	* @see AuditedUser#getGroups() reverse relationship AuditedUser.getGroups()
+	* @return users
+	*/
+	public AuditedUserList getUsers()
+	{
+		AuditedGroupData _data = ((AuditedGroupData)this.zGetCurrentDataWithCheck());
+		AuditedUserList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedUserList) _data.getUsers();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new MappedOperation(AuditedGroupFinder.zGetUsersMapperFragment(), AuditedUserGroupFinder.dependentId().eq(_data.getId()).and(AuditedUserGroupFinder.sourceId().eq(_data.getSourceId())).and(AuditedUserGroupFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = new AuditedUserList(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(AuditedUserGroup.ownerId = AuditedUser.id and AuditedUserGroup.sourceId =  1 and this.id = AuditedUserGroup.dependentId and this.sourceId =  2 )</pre>
+	* @see AuditedUser#getSourceGroups() reverse relationship AuditedUser.getSourceGroups()
+	* @return source users
+	*/
+	public AuditedUserList getSourceUsers()
+	{
+		AuditedGroupData _data = ((AuditedGroupData)this.zGetCurrentDataWithCheck());
+		AuditedUserList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedUserList) _data.getSourceUsers();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			if (_data.getSourceId()==2)
+			{
+				{
+					_op = new MappedOperation(AuditedGroupFinder.zGetSourceUsersMapperFragment(), AuditedUserGroupFinder.dependentId().eq(_data.getId()).and(AuditedUserGroupFinder.processingDate().eq(this.getProcessingDate())).and(AuditedUserGroupFinder.zGetConstantOperation(1)));
+				}
+			}
+			else 
+			{
+				_result = new AuditedUserList( new None (
+					AuditedUserFinder.id()));
+			}
+
+			if (_op != null)
+			{
+				_result = new AuditedUserList(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = AuditedUser.defaultGroupId</pre>
+	* @see AuditedUser#getDefaultGroup() reverse relationship AuditedUser.getDefaultGroup()
+	* @return default users
+	*/
+	public AuditedUserList getDefaultUsers()
+	{
+		AuditedGroupData _data = ((AuditedGroupData)this.zGetCurrentDataWithCheck());
+		AuditedUserList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedUserList) _data.getDefaultUsers();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedGroupFinder.defaultUsers().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = new AuditedUserList(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(AuditedUser.defaultGroupId = this.id and this.type =  7 )</pre>
+	* @see AuditedUser#getGroup7() reverse relationship AuditedUser.getGroup7()
+	* @return group7active users
+	*/
+	public AuditedUserList getGroup7activeUsers()
+	{
+		AuditedGroupData _data = ((AuditedGroupData)this.zGetCurrentDataWithCheck());
+		AuditedUserList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedUserList) _data.getGroup7activeUsers();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			if (!_data.isTypeNull() && _data.getType()==7)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedGroupFinder.group7activeUsers().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new AuditedUserList( new None (
+					AuditedUserFinder.id()));
+			}
+
+			if (_op != null)
+			{
+				_result = new AuditedUserList(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	public void setManager(AuditedUser manager)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedGroupData _data = this.zGetCurrentDataWithCheck();
+		_data.setManager(manager);
+		if (manager == null)
+		{
+			this.setManagerIdNull();
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setManagerId(
+				manager.getId());
+			this.setSourceId(
+				manager.getSourceId());
+		}
+	}
+
+	public void setUsers(AuditedUserList users)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedGroupData _data = this.zGetCurrentDataWithCheck();
+		_data.setUsers(users);
+	}
+
+	public void setSourceUsers(AuditedUserList sourceUsers)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedGroupData _data = this.zGetCurrentDataWithCheck();
+		_data.setSourceUsers(sourceUsers);
+	}
+
+	public void setDefaultUsers(AuditedUserList defaultUsers)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedGroupData _data = this.zGetCurrentDataWithCheck();
+		_data.setDefaultUsers(defaultUsers);
+	}
+
+	public void setGroup7activeUsers(AuditedUserList group7activeUsers)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedGroupData _data = this.zGetCurrentDataWithCheck();
+		_data.setGroup7activeUsers(group7activeUsers);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedGroupData data = ((AuditedGroupData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedGroupData data = ((AuditedGroupData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new AuditedGroupData.AuditedGroupDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedGroupFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = AuditedGroupFinder.processingDate().eq(processingDate);
+			op = op.and(AuditedGroupFinder.id().eq(currentData.getId()));
+			op = op.and(AuditedGroupFinder.sourceId().eq(currentData.getSourceId()));
+			return AuditedGroupFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedGroupData localData = (AuditedGroupData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedGroupFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,1273 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AuditedGroupData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 48;
+	boolean isIdNull();
+	int getId();
+	void setId(int value);
+	void setIdNull();
+	boolean isManagerIdNull();
+	int getManagerId();
+	void setManagerId(int value);
+	void setManagerIdNull();
+	boolean isNameNull();
+	String getName();
+	void setName(String value);
+	void setNameNull();
+	int zGetNameAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isProfileIdNull();
+	int getProfileId();
+	void setProfileId(int value);
+	void setProfileIdNull();
+	boolean isSourceIdNull();
+	int getSourceId();
+	void setSourceId(int value);
+	void setSourceIdNull();
+	boolean isTypeNull();
+	int getType();
+	void setType(int value);
+	void setTypeNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getManager();
+	void setManager(Object related);
+	Object getUsers();
+	void setUsers(Object related);
+	Object getSourceUsers();
+	void setSourceUsers(Object related);
+	Object getDefaultUsers();
+	void setDefaultUsers(Object related);
+	Object getGroup7activeUsers();
+	void setGroup7activeUsers(Object related);
+	public class AuditedGroupDataOnHeap implements AuditedGroupData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private int id;
+		private int managerId;
+		private String name;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int profileId;
+		private int sourceId;
+		private int type;
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isNameNull()
+		{
+			return this.getName() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isSourceIdNull()
+		{
+			return false;
+		}
+
+		public boolean isTypeNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isManagerIdNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public boolean isProfileIdNull()
+		{
+			return (isNullBits0 & 1 << 2) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.id);
+			out.writeInt(this.managerId);
+			out.writeObject(this.name);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedGroupFinder.processingDate().getInfinityDate());
+			out.writeInt(this.profileId);
+			out.writeInt(this.sourceId);
+			out.writeInt(this.type);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public int getId()
+		{
+			return this.id;
+		}
+
+		public void setId(int value)
+		{
+			this.id = value;
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getManagerId()
+		{
+			return this.managerId;
+		}
+
+		public void setManagerId(int value)
+		{
+			this.managerId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public String getName()
+		{
+			return this.name;
+		}
+
+		public int zGetNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+		}
+
+		public void setName(String value)
+		{
+			this.name = StringPool.getInstance().getOrAddToCache(value, AuditedGroupFinder.isFullCache());
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, AuditedGroupFinder.isFullCache(), AuditedGroupFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, AuditedGroupFinder.isFullCache(), AuditedGroupFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProfileId()
+		{
+			return this.profileId;
+		}
+
+		public void setProfileId(int value)
+		{
+			this.profileId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+		}
+
+		public int getSourceId()
+		{
+			return this.sourceId;
+		}
+
+		public void setSourceId(int value)
+		{
+			this.sourceId = value;
+		}
+
+		public void setSourceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getType()
+		{
+			return this.type;
+		}
+
+		public void setType(int value)
+		{
+			this.type = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setTypeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setManagerIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public void setProfileIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(AuditedGroupDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.id = this.id;
+			copy.managerId = this.managerId;
+			copy.name = this.name;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.profileId = this.profileId;
+			copy.sourceId = this.sourceId;
+			copy.type = this.type;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[5];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.id = in.readInt();
+			this.managerId = in.readInt();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedGroupFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedGroupFinder.isFullCache(), AuditedGroupFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedGroupFinder.processingDate().getInfinityDate()), AuditedGroupFinder.isFullCache(), AuditedGroupFinder.isOffHeap());
+			this.profileId = in.readInt();
+			this.sourceId = in.readInt();
+			this.type = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final AuditedGroupData otherData = (AuditedGroupData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			if (getSourceId() != otherData.getSourceId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.id);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedGroupFinder.processingDate().getInfinityDate());
+			out.writeInt(this.sourceId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.id = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedGroupFinder.isFullCache(), AuditedGroupFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedGroupFinder.processingDate().getInfinityDate()), AuditedGroupFinder.isFullCache(), AuditedGroupFinder.isOffHeap());
+			this.sourceId = in.readInt();
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getManager()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[2];
+			}
+
+			return null;
+		}
+
+		public void setManager(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[2] = related;
+		}
+
+		public Object getUsers()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[4];
+			}
+
+			return null;
+		}
+
+		public void setUsers(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[4] = related;
+		}
+
+		public Object getSourceUsers()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[3];
+			}
+
+			return null;
+		}
+
+		public void setSourceUsers(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[3] = related;
+		}
+
+		public Object getDefaultUsers()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setDefaultUsers(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getGroup7activeUsers()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setGroup7activeUsers(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			AuditedGroupDataOffHeap data = new AuditedGroupDataOffHeap();
+			data.setId(this.getId());
+			data.setManagerId(this.getManagerId());
+			if (this.isManagerIdNull()) data.setManagerIdNull();
+			data.setName(this.getName());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setProfileId(this.getProfileId());
+			if (this.isProfileIdNull()) data.setProfileIdNull();
+			data.setSourceId(this.getSourceId());
+			data.setType(this.getType());
+			if (this.isTypeNull()) data.setTypeNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedGroupData auditedGroupData = (AuditedGroupData) newData;
+			this.setManagerId(auditedGroupData.getManagerId());
+			if (auditedGroupData.isManagerIdNull()) this.setManagerIdNull();
+			this.setName(auditedGroupData.getName());
+			this.setProcessingDateFrom(auditedGroupData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedGroupData.getProcessingDateTo());
+			this.setProfileId(auditedGroupData.getProfileId());
+			if (auditedGroupData.isProfileIdNull()) this.setProfileIdNull();
+			this.setSourceId(auditedGroupData.getSourceId());
+			this.setType(auditedGroupData.getType());
+			if (auditedGroupData.isTypeNull()) this.setTypeNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedGroupData other = (AuditedGroupData) newData;
+			if ( isManagerIdNull() != other.isManagerIdNull() || getManagerId() != other.getManagerId())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if ( isProfileIdNull() != other.isProfileIdNull() || getProfileId() != other.getProfileId())
+			{
+				return true;
+			}
+
+			if ( getSourceId() != other.getSourceId())
+			{
+				return true;
+			}
+
+			if ( isTypeNull() != other.isTypeNull() || getType() != other.getType())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedGroupDataOnHeap copy = new AuditedGroupDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedGroupDataOnHeap copy = new AuditedGroupDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "sourceId: "+(""+getSourceId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedGroupData otherData = (AuditedGroupData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedGroupData otherData = (AuditedGroupData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedGroupData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedGroupFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedGroupFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedGroupData";
+		}
+	}
+
+	public class AuditedGroupDataOffHeap extends MithraOffHeapDataObject implements AuditedGroupData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public AuditedGroupDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 32);
+		}
+
+		public AuditedGroupDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isManagerIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isNameNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isProfileIdNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isSourceIdNull()
+		{
+			return false;
+		}
+
+		public boolean isTypeNull()
+		{
+			return zIsNull(_storage, 4, 2);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getId());
+			out.writeInt(this.getManagerId());
+			out.writeObject(this.getName());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedGroupFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getProfileId());
+			out.writeInt(this.getSourceId());
+			out.writeInt(this.getType());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isTypeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isManagerIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			if (isProfileIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public int getId()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setId(int value)
+		{
+			zSetInteger(_storage, value, 12, -1, -1);
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getManagerId()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setManagerId(int value)
+		{
+			zSetInteger(_storage, value, 16, 4, 0);
+		}
+
+		public String getName()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetNameAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setName(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProfileId()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setProfileId(int value)
+		{
+			zSetInteger(_storage, value, 40, 4, 1);
+		}
+
+		public int getSourceId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setSourceId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setSourceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getType()
+		{
+			return zGetInteger(_storage, 44);
+		}
+
+		public void setType(int value)
+		{
+			zSetInteger(_storage, value, 44, 4, 2);
+		}
+
+		public void setTypeNull()
+		{
+			zSetNull(_storage, 4, 2);
+		}
+
+		public void setManagerIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public void setProfileIdNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(AuditedGroupDataOnHeap copy, boolean withRelationships)
+		{
+			copy.id = this.getId();
+			copy.managerId = this.getManagerId();
+			copy.name = this.getName();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.profileId = this.getProfileId();
+			copy.sourceId = this.getSourceId();
+			copy.type = this.getType();
+			if (isTypeNull())
+			{
+				copy.setTypeNull();
+			}
+
+			if (isManagerIdNull())
+			{
+				copy.setManagerIdNull();
+			}
+
+			if (isProfileIdNull())
+			{
+				copy.setProfileIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 16, 4, 0, (isNullBits0 & 1 << 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetInteger(_storage, in.readInt(), 40, 4, 1, (isNullBits0 & 1 << 2) != 0 );
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 44, 4, 2, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof AuditedGroupDataOffHeap)
+			{
+				final AuditedGroupDataOffHeap otherData = (AuditedGroupDataOffHeap) other;
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final AuditedGroupData otherData = (AuditedGroupData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			if (getSourceId() != otherData.getSourceId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedGroupFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getSourceId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getManager()
+		{
+			return null;
+		}
+
+		public void setManager(Object related)
+		{
+		}
+
+		public Object getUsers()
+		{
+			return null;
+		}
+
+		public void setUsers(Object related)
+		{
+		}
+
+		public Object getSourceUsers()
+		{
+			return null;
+		}
+
+		public void setSourceUsers(Object related)
+		{
+		}
+
+		public Object getDefaultUsers()
+		{
+			return null;
+		}
+
+		public void setDefaultUsers(Object related)
+		{
+		}
+
+		public Object getGroup7activeUsers()
+		{
+			return null;
+		}
+
+		public void setGroup7activeUsers(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedGroupData auditedGroupData = (AuditedGroupData) newData;
+			this.setManagerId(auditedGroupData.getManagerId());
+			if (auditedGroupData.isManagerIdNull()) this.setManagerIdNull();
+			this.setName(auditedGroupData.getName());
+			this.setProcessingDateFrom(auditedGroupData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedGroupData.getProcessingDateTo());
+			this.setProfileId(auditedGroupData.getProfileId());
+			if (auditedGroupData.isProfileIdNull()) this.setProfileIdNull();
+			this.setSourceId(auditedGroupData.getSourceId());
+			this.setType(auditedGroupData.getType());
+			if (auditedGroupData.isTypeNull()) this.setTypeNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedGroupData other = (AuditedGroupData) newData;
+			if ( isManagerIdNull() != other.isManagerIdNull() || getManagerId() != other.getManagerId())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if ( isProfileIdNull() != other.isProfileIdNull() || getProfileId() != other.getProfileId())
+			{
+				return true;
+			}
+
+			if ( getSourceId() != other.getSourceId())
+			{
+				return true;
+			}
+
+			if ( isTypeNull() != other.isTypeNull() || getType() != other.getType())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedGroupDataOnHeap copy = new AuditedGroupDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedGroupDataOnHeap copy = new AuditedGroupDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "sourceId: "+(""+getSourceId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedGroupData otherData = (AuditedGroupData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedGroupData otherData = (AuditedGroupData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedGroupData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedGroupFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedGroupFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedGroupData";
+		}
+	}
+}
@@ -0,0 +1,1233 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditedGroupFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("sourceId",
+		IntegerAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditedGroup";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditedGroup";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedGroup");
+	private static final AuditedGroupSingleFinder<AuditedGroup, Object, AuditedGroup> finder = new AuditedGroupSingleFinder<AuditedGroup, Object, AuditedGroup>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditedGroupFinder.AuditedGroupRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("type");
+		finderMethodMap.addNormalAttributeName("managerId");
+		finderMethodMap.addNormalAttributeName("profileId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("manager");
+		finderMethodMap.addRelationshipName("users");
+		finderMethodMap.addRelationshipName("sourceUsers");
+		finderMethodMap.addRelationshipName("defaultUsers");
+		finderMethodMap.addRelationshipName("group7activeUsers");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = AuditedGroupFinder.managerId().constructEqualityMapper(AuditedUserFinder.id());
+			result[1] = AuditedUserFinder.id().constructEqualityMapper(AuditedGroupFinder.managerId());
+			result[2] = AuditedGroupFinder.sourceId().constructEqualityMapper(AuditedUserFinder.sourceId());
+			result[3] = AuditedUserFinder.sourceId().constructEqualityMapper(AuditedGroupFinder.sourceId());
+			result[4] = AuditedGroupFinder.processingDate().constructEqualityMapper(AuditedUserFinder.processingDate());
+			result[5] = AuditedUserFinder.processingDate().constructEqualityMapper(AuditedGroupFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = AuditedGroupFinder.sourceId().eq(2);
+			result[1] = AuditedGroupFinder.type().eq(7);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return AuditedGroupFinder.zSourceAttributeType;
+	}
+
+	public static AuditedGroup findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditedGroup findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditedGroupList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedGroupList) finder.findMany(operation);
+	}
+
+	public static AuditedGroupList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedGroupList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditedGroup findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditedGroup) FinderUtils.findOne(found);
+	}
+
+	public static AuditedGroup findByPrimaryKey(int id, int sourceId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, sourceId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedGroupData _castedTargetData = (AuditedGroupData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId() && _bean.getI2AsInteger() == _castedTargetData.getSourceId())
+			{
+				return AuditedGroupFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static AuditedGroup zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditedGroup) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditedGroupRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditedGroup, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return AuditedGroupFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private IntegerAttribute<ParentOwnerType> type;
+		private IntegerAttribute<ParentOwnerType> managerId;
+		private IntegerAttribute<ParentOwnerType> profileId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AuditedGroupManagerFinderSubclass<ParentOwnerType> manager;
+		private AuditedGroupUsersFinderSubclass<ParentOwnerType> users;
+		private AuditedGroupSourceUsersFinderSubclass<ParentOwnerType> sourceUsers;
+		private AuditedGroupDefaultUsersFinderSubclass<ParentOwnerType> defaultUsers;
+		private AuditedGroupGroup7activeUsersFinderSubclass<ParentOwnerType> group7activeUsers;
+		private IntegerAttribute<ParentOwnerType> sourceId;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditedGroupRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditedGroupRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedGroupFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditedGroupFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditedGroupFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditedGroupFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.id();
+			attributes[1] = this.name();
+			attributes[2] = this.type();
+			attributes[3] = this.managerId();
+			attributes[4] = this.profileId();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(5);
+				relatedFinders.add(this.manager());
+				relatedFinders.add(this.users());
+				relatedFinders.add(this.sourceUsers());
+				relatedFinders.add(this.defaultUsers());
+				relatedFinders.add(this.group7activeUsers());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditedGroup findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedGroupFinder.findOne(operation, false);
+		}
+
+		public AuditedGroup findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedGroupFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditedGroup> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditedGroupList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditedGroup> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditedGroupList result = (AuditedGroupList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditedGroup> constructEmptyList()
+		{
+			return new AuditedGroupList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -2021688764;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return AuditedGroupFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBJECTID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedGroupFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,20,-1,-1,128,true, false) :
+					new MappedStringAttribute(AuditedGroupFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> type()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.type;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("\"TYPE\"","","type",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,44,4,2,false, false) :
+					new MappedIntegerAttribute(AuditedGroupFinder.type(), this.mapper, this.zGetValueSelector());
+				this.type = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> managerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.managerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("MANAGER_OID","","managerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,16,4,0,false, false) :
+					new MappedIntegerAttribute(AuditedGroupFinder.managerId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("manager");
+				this.managerId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> profileId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.profileId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROFILE_OID","","profileId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,40,4,1,false, false) :
+					new MappedIntegerAttribute(AuditedGroupFinder.profileId(), this.mapper, this.zGetValueSelector());
+				this.profileId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditedGroupFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedGroupFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditedGroupFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedGroupFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate(null,"","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedGroupFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),AuditedGroupFinder.processingDateInfinity,false,false,AuditedGroupFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditedGroupFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public AuditedUserFinder.AuditedUserSingleFinderForRelatedClasses<ParentOwnerType, AuditedUser, AuditedGroup> manager()
+		{
+			AuditedGroupManagerFinderSubclass<ParentOwnerType> result = this.manager;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedGroupFinder.zGetAuditedGroupManagerReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedGroupManagerFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.manager = result;
+			}
+
+			return result;
+		}
+
+		public AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<ParentOwnerType, AuditedUserList, AuditedGroup> users()
+		{
+			AuditedGroupUsersFinderSubclass<ParentOwnerType> result = this.users;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserGroupsMapper());
+				newMapper.setToMany(true);
+				result = new AuditedGroupUsersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.users = result;
+			}
+
+			return result;
+		}
+
+		public AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<ParentOwnerType, AuditedUserList, AuditedGroup> sourceUsers()
+		{
+			AuditedGroupSourceUsersFinderSubclass<ParentOwnerType> result = this.sourceUsers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserSourceGroupsMapper());
+				newMapper.setToMany(true);
+				result = new AuditedGroupSourceUsersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.sourceUsers = result;
+			}
+
+			return result;
+		}
+
+		public AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<ParentOwnerType, AuditedUserList, AuditedGroup> defaultUsers()
+		{
+			AuditedGroupDefaultUsersFinderSubclass<ParentOwnerType> result = this.defaultUsers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserDefaultGroupMapper());
+				newMapper.setToMany(true);
+				result = new AuditedGroupDefaultUsersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.defaultUsers = result;
+			}
+
+			return result;
+		}
+
+		public AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<ParentOwnerType, AuditedUserList, AuditedGroup> group7activeUsers()
+		{
+			AuditedGroupGroup7activeUsersFinderSubclass<ParentOwnerType> result = this.group7activeUsers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserGroup7Mapper());
+				newMapper.setToMany(true);
+				result = new AuditedGroupGroup7activeUsersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.group7activeUsers = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return AuditedGroupFinder.sourceId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditedGroupFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditedGroupFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditedGroupCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditedGroupRelatedFinder<ParentOwnerType, ReturnType, AuditedGroupList, OwnerType>
+	{
+		public AuditedGroupCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditedGroupCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditedGroupCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedGroupCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditedGroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditedGroupRelatedFinder<ParentOwnerType, ReturnType, AuditedGroupList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditedGroupSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditedGroupSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditedGroup other)
+		{
+			return this.id().eq(other.getId())
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedGroup findByPrimaryKey(int id, int sourceId, Timestamp processingDate)
+		{
+			AuditedGroup _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				_bean.setI2AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedGroup) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.sourceId().eq(sourceId)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditedGroupSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditedGroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedGroupSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper managerReverseMapper = null;
+	public static Mapper zGetAuditedGroupManagerReverseMapper()
+	{
+		if (managerReverseMapper == null)
+		{
+			managerReverseMapper = zConstructAuditedGroupManagerReverseMapper();
+		}
+
+		return managerReverseMapper;
+	}
+
+	private static Mapper managerMapper = null;
+	public static Mapper zGetAuditedGroupManagerMapper()
+	{
+		if (managerMapper == null)
+		{
+			managerMapper = zConstructAuditedGroupManagerMapper();
+		}
+
+		return managerMapper;
+	}
+
+	private static Mapper managerPureReverseMapper = null;
+	public static Mapper zGetAuditedGroupManagerPureReverseMapper()
+	{
+		if (managerPureReverseMapper == null)
+		{
+			managerPureReverseMapper = zConstructAuditedGroupManagerPureReverseMapper();
+		}
+
+		return managerPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedGroupManagerPureReverseMapper()
+	{
+		InternalList managerMapperMapperList = new InternalList(3);
+		managerMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(0));
+		managerMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		managerMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper managerMapper = new MultiEqualityMapper(managerMapperMapperList);
+		managerMapper.setName("manager");
+		return managerMapper;
+	}
+
+	private static Mapper zConstructAuditedGroupManagerReverseMapper()
+	{
+		InternalList managerMapperMapperList = new InternalList(3);
+		managerMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(0));
+		managerMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		managerMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper managerMapper = new MultiEqualityMapper(managerMapperMapperList);
+		managerMapper.setName("manager");
+		return managerMapper;
+	}
+
+	private static Mapper zConstructAuditedGroupManagerMapper()
+	{
+		InternalList managerMapperMapperList = new InternalList(3);
+		managerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(12));
+		managerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		managerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper managerMapper = new MultiEqualityMapper(managerMapperMapperList);
+		managerMapper.setName("manager_Reverse");
+		return managerMapper;
+	}
+
+	private static Mapper usersMapperFragment = null;
+	public static Mapper zGetUsersMapperFragment()
+	{
+		if (usersMapperFragment == null)
+		{
+			usersMapperFragment = zConstructUsersMapperFragment();
+		}
+
+		return usersMapperFragment;
+	}
+
+	private static Mapper zConstructUsersMapperFragment()
+	{
+		InternalList usersMapperMapperList = new InternalList(3);
+		usersMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		usersMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		usersMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		return new MultiEqualityMapper(usersMapperMapperList);
+	}
+
+	private static Mapper sourceUsersMapperFragment = null;
+	public static Mapper zGetSourceUsersMapperFragment()
+	{
+		if (sourceUsersMapperFragment == null)
+		{
+			sourceUsersMapperFragment = zConstructSourceUsersMapperFragment();
+		}
+
+		return sourceUsersMapperFragment;
+	}
+
+	private static Mapper zConstructSourceUsersMapperFragment()
+	{
+		InternalList sourceUsersMapperMapperList = new InternalList(3);
+		sourceUsersMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		sourceUsersMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		sourceUsersMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		return new MultiEqualityMapper(sourceUsersMapperMapperList);
+	}
+
+	/** maps to AUDITED_GROUP_TBL.OBJECTID **/
+	public static IntegerAttribute<AuditedGroup> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to AUDITED_GROUP_TBL."NAME" **/
+	public static StringAttribute<AuditedGroup> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to AUDITED_GROUP_TBL."TYPE" **/
+	public static IntegerAttribute<AuditedGroup> type()
+	{
+		return finder.type();
+	}
+
+	/** maps to AUDITED_GROUP_TBL.MANAGER_OID **/
+	public static IntegerAttribute<AuditedGroup> managerId()
+	{
+		return finder.managerId();
+	}
+
+	/** maps to AUDITED_GROUP_TBL.PROFILE_OID **/
+	public static IntegerAttribute<AuditedGroup> profileId()
+	{
+		return finder.profileId();
+	}
+
+	/** maps to AUDITED_GROUP_TBL.IN_Z **/
+	public static TimestampAttribute<AuditedGroup> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDITED_GROUP_TBL.OUT_Z **/
+	public static TimestampAttribute<AuditedGroup> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static IntegerAttribute<AuditedGroup> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	public static AsOfAttribute<AuditedGroup> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static AuditedUserFinder.AuditedUserSingleFinderForRelatedClasses<AuditedGroup, AuditedUser, AuditedGroup> manager()
+	{
+		return finder.manager();
+	}
+
+	public static class AuditedGroupManagerFinderSubclass<ParentOwnerType> extends AuditedUserFinder.AuditedUserSingleFinderForRelatedClasses<ParentOwnerType, AuditedUser, AuditedGroup>
+	{
+		public AuditedGroupManagerFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "manager";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedUserFinder.id(),
+				AuditedUserFinder.sourceId(),
+				AuditedUserFinder.processingDate()).withExtractors(
+				AuditedGroupFinder.managerId(),
+				AuditedGroupFinder.sourceId(),
+				AuditedGroupFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedGroupManagerFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedUser plainValueOf(AuditedGroup _obj)
+		{
+			return _obj.getManager();
+		}
+
+		protected AuditedUserList plainListValueOf(Object _obj)
+		{
+			return ((AuditedGroupList)_obj).getManagers();
+		}
+	}
+
+	public static AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<AuditedGroup, AuditedUserList, AuditedGroup> users()
+	{
+		return finder.users();
+	}
+
+	public static class AuditedGroupUsersFinderSubclass<ParentOwnerType> extends AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<ParentOwnerType, AuditedUserList, AuditedGroup>
+	{
+		public AuditedGroupUsersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "users";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedGroupUsersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedUserList plainValueOf(AuditedGroup _obj)
+		{
+			return _obj.getUsers();
+		}
+
+		protected AuditedUserList plainListValueOf(Object _obj)
+		{
+			return ((AuditedGroupList)_obj).getUsers();
+		}
+	}
+
+	public static AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<AuditedGroup, AuditedUserList, AuditedGroup> sourceUsers()
+	{
+		return finder.sourceUsers();
+	}
+
+	public static class AuditedGroupSourceUsersFinderSubclass<ParentOwnerType> extends AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<ParentOwnerType, AuditedUserList, AuditedGroup>
+	{
+		public AuditedGroupSourceUsersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "sourceUsers";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedGroupSourceUsersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedUserList plainValueOf(AuditedGroup _obj)
+		{
+			return _obj.getSourceUsers();
+		}
+
+		protected AuditedUserList plainListValueOf(Object _obj)
+		{
+			return ((AuditedGroupList)_obj).getSourceUsers();
+		}
+	}
+
+	public static AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<AuditedGroup, AuditedUserList, AuditedGroup> defaultUsers()
+	{
+		return finder.defaultUsers();
+	}
+
+	public static class AuditedGroupDefaultUsersFinderSubclass<ParentOwnerType> extends AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<ParentOwnerType, AuditedUserList, AuditedGroup>
+	{
+		public AuditedGroupDefaultUsersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "defaultUsers";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedUserFinder.defaultGroupId(),
+				AuditedUserFinder.sourceId(),
+				AuditedUserFinder.processingDate()).withExtractors(
+				AuditedGroupFinder.id(),
+				AuditedGroupFinder.sourceId(),
+				AuditedGroupFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedGroupDefaultUsersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedUserList plainValueOf(AuditedGroup _obj)
+		{
+			return _obj.getDefaultUsers();
+		}
+
+		protected AuditedUserList plainListValueOf(Object _obj)
+		{
+			return ((AuditedGroupList)_obj).getDefaultUsers();
+		}
+	}
+
+	public static AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<AuditedGroup, AuditedUserList, AuditedGroup> group7activeUsers()
+	{
+		return finder.group7activeUsers();
+	}
+
+	public static class AuditedGroupGroup7activeUsersFinderSubclass<ParentOwnerType> extends AuditedUserFinder.AuditedUserCollectionFinderForRelatedClasses<ParentOwnerType, AuditedUserList, AuditedGroup>
+	{
+		public AuditedGroupGroup7activeUsersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "group7activeUsers";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedUserFinder.defaultGroupId(),
+				AuditedUserFinder.sourceId(),
+				AuditedUserFinder.processingDate()).withExtractors(
+				AuditedGroupFinder.id(),
+				AuditedGroupFinder.sourceId(),
+				AuditedGroupFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedGroupGroup7activeUsersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedUserList plainValueOf(AuditedGroup _obj)
+		{
+			return _obj.getGroup7activeUsers();
+		}
+
+		protected AuditedUserList plainListValueOf(Object _obj)
+		{
+			return ((AuditedGroupList)_obj).getGroup7activeUsers();
+		}
+	}
+
+	public static Operation eq(AuditedGroup other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static AuditedGroupSingleFinder<AuditedGroup, Object, AuditedGroup> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			managerId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			id()
+			, sourceId()
+			, type()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			id()
+			, managerId()
+			, sourceId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedGroup");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(int sourceId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(sourceId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<Integer> sourceIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceIdSet, listener);
+	}
+}
@@ -0,0 +1,162 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedGroupListAbstract extends DelegatingList<AuditedGroup> implements MithraList<AuditedGroup>
+{
+	public AuditedGroupListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedGroupListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedGroupListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedGroupListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public AuditedGroup[] elements()
+	{
+		AuditedGroup[] result = new AuditedGroup[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedGroupList intersection(AuditedGroupList another)
+	{
+		return (AuditedGroupList)super.intersection(another);
+	}
+
+	public AuditedGroup getAuditedGroupAt(int index)
+	{
+		return (AuditedGroup)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.managerId = AuditedUser.id</pre>
+	* @return The manager
+	*/
+	public AuditedUserList getManagers()
+	{
+		return (AuditedUserList) this.zGetDelegated().resolveRelationship(this, AuditedGroupFinder.manager());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(AuditedUserGroup.ownerId = AuditedUser.id and this.id = AuditedUserGroup.dependentId )</pre>
+	* @see AuditedUser#getGroups() reverse relationship AuditedUser.getGroups()
+	* @return users
+	*/
+	public AuditedUserList getUsers()
+	{
+		return (AuditedUserList) this.zGetDelegated().resolveRelationship(this, AuditedGroupFinder.users());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(AuditedUserGroup.ownerId = AuditedUser.id and AuditedUserGroup.sourceId =  1 and this.id = AuditedUserGroup.dependentId and this.sourceId =  2 )</pre>
+	* @see AuditedUser#getSourceGroups() reverse relationship AuditedUser.getSourceGroups()
+	* @return source users
+	*/
+	public AuditedUserList getSourceUsers()
+	{
+		return (AuditedUserList) this.zGetDelegated().resolveRelationship(this, AuditedGroupFinder.sourceUsers());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = AuditedUser.defaultGroupId</pre>
+	* @see AuditedUser#getDefaultGroup() reverse relationship AuditedUser.getDefaultGroup()
+	* @return default users
+	*/
+	public AuditedUserList getDefaultUsers()
+	{
+		return (AuditedUserList) this.zGetDelegated().resolveRelationship(this, AuditedGroupFinder.defaultUsers());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(AuditedUser.defaultGroupId = this.id and this.type =  7 )</pre>
+	* @see AuditedUser#getGroup7() reverse relationship AuditedUser.getGroup7()
+	* @return group7active users
+	*/
+	public AuditedUserList getGroup7activeUsers()
+	{
+		return (AuditedUserList) this.zGetDelegated().resolveRelationship(this, AuditedGroupFinder.group7activeUsers());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedGroupFinder.getMithraObjectPortal();
+	}
+
+	public AuditedGroupList getNonPersistentCopy()
+	{
+		AuditedGroupList result = new AuditedGroupList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedGroupList asAdhoc()
+	{
+		return (AuditedGroupList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AuditedGroup> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,701 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class AuditedManufacturerAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		AuditedManufacturerFinder.processingDate()
+	, AuditedManufacturerFinder.zGetDoubleAttributes(),AuditedManufacturerFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(AuditedManufacturer.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public boolean isAuditedOrderItemsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedManufacturerData _data = (AuditedManufacturerData) _behavior.getCurrentDataForRead(this);
+		AuditedOrderItemList auditedOrderItems =
+		(AuditedOrderItemList) _data.getAuditedOrderItems();
+		if( auditedOrderItems != null)
+		{
+			return auditedOrderItems.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public AuditedManufacturerAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedManufacturerFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AuditedManufacturerData zSynchronizedGetData()
+	{
+		return (AuditedManufacturerData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !AuditedManufacturerFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedManufacturerData _data = (AuditedManufacturerData) _behavior.getCurrentDataForWrite(this);
+		AuditedOrderItemList auditedOrderItems =
+		(AuditedOrderItemList ) _data.getAuditedOrderItems();
+		_behavior.insert(this);
+		if (auditedOrderItems != null)
+		{
+			auditedOrderItems.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		AuditedManufacturerFinder.AuditedManufacturerRelatedFinder parentFinder = (AuditedManufacturerFinder.AuditedManufacturerRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedManufacturerData _newData = (AuditedManufacturerData) _behavior.getCurrentDataForWrite(this);
+		{
+			AuditedOrderItemList auditedOrderItems =
+			(AuditedOrderItemList) _newData.getAuditedOrderItems();
+			RelatedFinder dependentFinder = parentFinder.auditedOrderItems();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, auditedOrderItems != null, navigationStats);
+			if (auditedOrderItems != null)
+			{
+				auditedOrderItems.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public AuditedManufacturer zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedManufacturerData _data = (AuditedManufacturerData) _behavior.getCurrentDataForWrite(this);
+		AuditedOrderItemList auditedOrderItems =
+		(AuditedOrderItemList ) _data.getAuditedOrderItems();
+		AuditedManufacturer original = (AuditedManufacturer) _behavior.copyThenInsert(this);
+		if (auditedOrderItems != null)
+		{
+			auditedOrderItems.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			AuditedManufacturerFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public AuditedManufacturer getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedManufacturerAbstract result = (AuditedManufacturerAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (AuditedManufacturer ) result;
+	}
+
+	public AuditedManufacturer zFindOriginal()
+	{
+		AuditedManufacturerData data = (AuditedManufacturerData) this.currentData;
+		Operation op;
+		op = AuditedManufacturerFinder.id().eq(data.getId());
+		op = op.and(AuditedManufacturerFinder.processingDate().eq(this.getProcessingDate()));
+		return AuditedManufacturerFinder.findOne(op);
+	}
+
+	public AuditedManufacturer getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedManufacturerAbstract result = (AuditedManufacturerAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (AuditedManufacturer ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isAuditedOrderItemsModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public AuditedManufacturer copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (AuditedManufacturer) behavior.updateOriginalOrInsert(this);
+	}
+
+	public AuditedManufacturer copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AuditedManufacturer) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			AuditedManufacturerData data = (AuditedManufacturerData) this.currentData;
+			Operation op = AuditedManufacturerFinder.processingDate().eq(this.processingDate);
+			op = op.and(AuditedManufacturerFinder.id().eq(data.getId()));
+			return AuditedManufacturerFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isCreditRatingNull()
+	{
+		return this.zSynchronizedGetData().isCreditRatingNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isNameNull()
+	{
+		return this.zSynchronizedGetData().isNameNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public int getCreditRating()
+	{
+		AuditedManufacturerData data = this.zSynchronizedGetData();
+		if (data.isCreditRatingNull()) MithraNullPrimitiveException.throwNew("creditRating", data);
+		return data.getCreditRating();
+	}
+
+	public void setCreditRating(int newValue)
+	{
+		zSetInteger(AuditedManufacturerFinder.creditRating(), newValue, false ,true);
+	}
+
+	public int getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(AuditedManufacturerFinder.id(), newValue, true ,false);
+		if (d == null) return;
+		AuditedManufacturerData data = (AuditedManufacturerData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			AuditedOrderItemList auditedOrderItems =
+			(AuditedOrderItemList) data.getAuditedOrderItems();
+			if (auditedOrderItems != null)
+			{
+				auditedOrderItems.setManufacturerId(newValue);
+			}
+		}
+	}
+
+	public String getName()
+	{
+		return this.zSynchronizedGetData().getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 64)
+		{
+			throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 64: " + newValue);
+		}
+
+		zSetString(AuditedManufacturerFinder.name(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedManufacturerFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedManufacturerFinder.processingDateTo(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, AuditedManufacturerFinder.creditRating(), false, mustCheckCurrent);
+	}
+
+	public void setCreditRatingNull()
+	{
+		zNullify(AuditedManufacturerFinder.creditRating(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		behavior.cascadeUpdateInPlaceBeforeTerminate(this);
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate(MithraDataObject _data)
+	{
+		AuditedManufacturerData _newData = (AuditedManufacturerData) _data;
+		{
+			AuditedOrderItemList auditedOrderItems =
+			(AuditedOrderItemList) _newData.getAuditedOrderItems();
+			if (auditedOrderItems != null)
+			{
+				auditedOrderItems.zCascadeUpdateInPlaceBeforeTerminate();
+			}
+		}
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AuditedManufacturerData _newData = (AuditedManufacturerData) _data;
+		{
+			AuditedOrderItemList auditedOrderItems =
+			(AuditedOrderItemList) _newData.getAuditedOrderItems();
+			if (auditedOrderItems != null)
+			{
+				auditedOrderItems.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		AuditedManufacturerData _newData = (AuditedManufacturerData) behavior.getCurrentDataForRead(this);
+		if (_newData.getAuditedOrderItems() != null && !(_newData.getAuditedOrderItems() instanceof NulledRelation))
+		{
+			((AuditedOrderItemList)_newData.getAuditedOrderItems()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		AuditedManufacturerData _newData = (AuditedManufacturerData) behavior.getCurrentDataForRead(this);
+		if (_newData.getAuditedOrderItems() != null && !(_newData.getAuditedOrderItems() instanceof NulledRelation))
+		{
+			((AuditedOrderItemList)_newData.getAuditedOrderItems()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = AuditedOrderItem.manufacturerId</pre>
+	* @see AuditedOrderItem#getManufacturer() reverse relationship AuditedOrderItem.getManufacturer()
+	* @return audited order items
+	*/
+	public AuditedOrderItemList getAuditedOrderItems()
+	{
+		AuditedOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedManufacturerData _data = (AuditedManufacturerData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedManufacturerFinder.auditedOrderItems().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (AuditedOrderItemList) _data.getAuditedOrderItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedManufacturerFinder.auditedOrderItems().zGetRelationshipMultiExtractor(), this);
+					_result = new AuditedOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new AuditedOrderItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedManufacturerData) _behavior.getCurrentDataForWrite(this);
+				_data.setAuditedOrderItems(_result);
+				if (_result != null) _result.zSetParentContainermanufacturer(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderItemList) _data.getAuditedOrderItems();
+			if (_result == null)
+			{
+				_result = new AuditedOrderItemList();
+				_result.zSetAddHandler(new AuditedOrderItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedManufacturerData) _behavior.getCurrentDataForWrite(this);
+				_data.setAuditedOrderItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditedOrderItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new AuditedOrderItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setAuditedOrderItems(AuditedOrderItemList auditedOrderItems)
+	{
+		AuditedOrderItemList _auditedOrderItems = (AuditedOrderItemList) auditedOrderItems;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedManufacturerData _data = (AuditedManufacturerData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _auditedOrderItems != null)
+			{
+				_auditedOrderItems.zMakeDetached(new RelationshipMultiEqualityOperation(AuditedManufacturerFinder.auditedOrderItems().zGetRelationshipMultiExtractor(), this),
+					_data.getAuditedOrderItems());
+			}
+
+			_data.setAuditedOrderItems(_auditedOrderItems);
+			if (_auditedOrderItems != null)
+			{
+				_auditedOrderItems.setManufacturerId(_data.getId());
+				_auditedOrderItems.zSetParentContainermanufacturer(this);
+				_auditedOrderItems.zSetAddHandler(new AuditedOrderItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_auditedOrderItems.zSetAddHandler(new AuditedOrderItemsAddHandlerPersisted());
+			AuditedOrderItemList auditedOrderItemsToDelete = new AuditedOrderItemList();
+			auditedOrderItemsToDelete.addAll(this.getAuditedOrderItems());
+			for(int i=0;i < _auditedOrderItems.size(); i++)
+			{
+				AuditedOrderItem item = _auditedOrderItems.getAuditedOrderItemAt(i);
+				if (!auditedOrderItemsToDelete.remove(item))
+				{
+					item.setManufacturerId(_data.getId());
+					item.cascadeInsert();
+				}
+			}
+
+			auditedOrderItemsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedManufacturerFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AuditedManufacturerData.AuditedManufacturerDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedManufacturerData data = (AuditedManufacturerData) AuditedManufacturerFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedManufacturer has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromAuditedManufacturerData( AuditedManufacturerData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromAuditedManufacturerData( AuditedManufacturerData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) AuditedManufacturerFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedManufacturerFinder.getMithraObjectPortal();
+	}
+
+	public AuditedManufacturer getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(AuditedManufacturerAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		AuditedManufacturerAbstract from = (AuditedManufacturerAbstract) f;
+		AuditedManufacturerData newData = from.zSynchronizedGetData();
+		if (from.isCreditRatingNull())
+		{
+			this.setCreditRatingNull();
+		}
+		else
+		{
+			this.setCreditRating(newData.getCreditRating());
+		}
+
+		this.setName(newData.getName());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		AuditedManufacturerData newData = (AuditedManufacturerData) d;
+		AuditedManufacturerData data = (AuditedManufacturerData) nd;
+		if (AuditedManufacturerFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AuditedManufacturerFinder.creditRating(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedManufacturerFinder.id(), false);
+		changed |= zUpdateString(behavior, data, newData, AuditedManufacturerFinder.name(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getAuditedOrderItems().cascadeTerminateAll();
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedManufacturerData data = ((AuditedManufacturerData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedManufacturerData data = ((AuditedManufacturerData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		AuditedManufacturerData data = ((AuditedManufacturerData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedManufacturerFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedManufacturerData localData = (AuditedManufacturerData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class AuditedOrderItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderItem item = (AuditedOrderItem) relatedObject;
+			item.setManufacturerId(getId());
+			item.zSetParentContainermanufacturer(AuditedManufacturerAbstract.this);
+		}
+	}
+
+	protected class AuditedOrderItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderItem item = (AuditedOrderItem) relatedObject;
+			item.setManufacturerId(getId());
+			item.cascadeInsert();
+		}
+	}
+}
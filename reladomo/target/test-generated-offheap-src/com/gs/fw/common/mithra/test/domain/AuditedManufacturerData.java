@@ -0,0 +1,908 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AuditedManufacturerData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 36;
+	boolean isCreditRatingNull();
+	int getCreditRating();
+	void setCreditRating(int value);
+	void setCreditRatingNull();
+	boolean isIdNull();
+	int getId();
+	void setId(int value);
+	void setIdNull();
+	boolean isNameNull();
+	String getName();
+	void setName(String value);
+	void setNameNull();
+	int zGetNameAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getAuditedOrderItems();
+	void setAuditedOrderItems(Object related);
+	public class AuditedManufacturerDataOnHeap implements AuditedManufacturerData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private int creditRating;
+		private int id;
+		private String name;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isNameNull()
+		{
+			return this.getName() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isCreditRatingNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.creditRating);
+			out.writeInt(this.id);
+			out.writeObject(this.name);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedManufacturerFinder.processingDate().getInfinityDate());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public int getCreditRating()
+		{
+			return this.creditRating;
+		}
+
+		public void setCreditRating(int value)
+		{
+			this.creditRating = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public int getId()
+		{
+			return this.id;
+		}
+
+		public void setId(int value)
+		{
+			this.id = value;
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getName()
+		{
+			return this.name;
+		}
+
+		public int zGetNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+		}
+
+		public void setName(String value)
+		{
+			this.name = StringPool.getInstance().getOrAddToCache(value, AuditedManufacturerFinder.isFullCache());
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, AuditedManufacturerFinder.isFullCache(), AuditedManufacturerFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, AuditedManufacturerFinder.isFullCache(), AuditedManufacturerFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public void setCreditRatingNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(AuditedManufacturerDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.creditRating = this.creditRating;
+			copy.id = this.id;
+			copy.name = this.name;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.creditRating = in.readInt();
+			this.id = in.readInt();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedManufacturerFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedManufacturerFinder.isFullCache(), AuditedManufacturerFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedManufacturerFinder.processingDate().getInfinityDate()), AuditedManufacturerFinder.isFullCache(), AuditedManufacturerFinder.isOffHeap());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final AuditedManufacturerData otherData = (AuditedManufacturerData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.id);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedManufacturerFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.id = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedManufacturerFinder.isFullCache(), AuditedManufacturerFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedManufacturerFinder.processingDate().getInfinityDate()), AuditedManufacturerFinder.isFullCache(), AuditedManufacturerFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getAuditedOrderItems()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setAuditedOrderItems(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			AuditedManufacturerDataOffHeap data = new AuditedManufacturerDataOffHeap();
+			data.setCreditRating(this.getCreditRating());
+			if (this.isCreditRatingNull()) data.setCreditRatingNull();
+			data.setId(this.getId());
+			data.setName(this.getName());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedManufacturerData auditedManufacturerData = (AuditedManufacturerData) newData;
+			this.setCreditRating(auditedManufacturerData.getCreditRating());
+			if (auditedManufacturerData.isCreditRatingNull()) this.setCreditRatingNull();
+			this.setName(auditedManufacturerData.getName());
+			this.setProcessingDateFrom(auditedManufacturerData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedManufacturerData.getProcessingDateTo());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedManufacturerData other = (AuditedManufacturerData) newData;
+			if ( isCreditRatingNull() != other.isCreditRatingNull() || getCreditRating() != other.getCreditRating())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedManufacturerDataOnHeap copy = new AuditedManufacturerDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedManufacturerDataOnHeap copy = new AuditedManufacturerDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedManufacturerData otherData = (AuditedManufacturerData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedManufacturerData otherData = (AuditedManufacturerData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedManufacturerData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedManufacturerFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedManufacturerFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedManufacturerData";
+		}
+	}
+
+	public class AuditedManufacturerDataOffHeap extends MithraOffHeapDataObject implements AuditedManufacturerData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public AuditedManufacturerDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 28);
+		}
+
+		public AuditedManufacturerDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isCreditRatingNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isNameNull()
+		{
+			return zIsStringNull(_storage, 16);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getCreditRating());
+			out.writeInt(this.getId());
+			out.writeObject(this.getName());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedManufacturerFinder.processingDate().getInfinityDate());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isCreditRatingNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public int getCreditRating()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setCreditRating(int value)
+		{
+			zSetInteger(_storage, value, 12, 4, 0);
+		}
+
+		public int getId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getName()
+		{
+			return zGetString(_storage, 16);
+		}
+
+		public int zGetNameAsInt()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setName(String value)
+		{
+			zSetString(_storage, value, 16);
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public void setCreditRatingNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(AuditedManufacturerDataOnHeap copy, boolean withRelationships)
+		{
+			copy.creditRating = this.getCreditRating();
+			copy.id = this.getId();
+			copy.name = this.getName();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			if (isCreditRatingNull())
+			{
+				copy.setCreditRatingNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetInteger(_storage, in.readInt(), 12, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof AuditedManufacturerDataOffHeap)
+			{
+				final AuditedManufacturerDataOffHeap otherData = (AuditedManufacturerDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final AuditedManufacturerData otherData = (AuditedManufacturerData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedManufacturerFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getAuditedOrderItems()
+		{
+			return null;
+		}
+
+		public void setAuditedOrderItems(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedManufacturerData auditedManufacturerData = (AuditedManufacturerData) newData;
+			this.setCreditRating(auditedManufacturerData.getCreditRating());
+			if (auditedManufacturerData.isCreditRatingNull()) this.setCreditRatingNull();
+			this.setName(auditedManufacturerData.getName());
+			this.setProcessingDateFrom(auditedManufacturerData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedManufacturerData.getProcessingDateTo());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedManufacturerData other = (AuditedManufacturerData) newData;
+			if ( isCreditRatingNull() != other.isCreditRatingNull() || getCreditRating() != other.getCreditRating())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedManufacturerDataOnHeap copy = new AuditedManufacturerDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedManufacturerDataOnHeap copy = new AuditedManufacturerDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedManufacturerData otherData = (AuditedManufacturerData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedManufacturerData otherData = (AuditedManufacturerData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedManufacturerData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedManufacturerFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedManufacturerFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedManufacturerData";
+		}
+	}
+}
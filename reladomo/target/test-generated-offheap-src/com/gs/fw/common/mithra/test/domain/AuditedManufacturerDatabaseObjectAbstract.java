@@ -0,0 +1,545 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AuditedManufacturerDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "\"NAME\",CREDIT_RATING,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.\"NAME\",t0.CREDIT_RATING,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected AuditedManufacturerDatabaseObjectAbstract()
+	{
+		super("AuditedManufacturer", "com.gs.fw.common.mithra.test.domain.AuditedManufacturerFinder",
+			5, 5,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedManufacturerFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AuditedManufacturerFinder.getFinderInstance();
+	}
+
+	public static AuditedManufacturerData allocateOnHeapData()
+	{
+		return new AuditedManufacturerData.AuditedManufacturerDataOnHeap();
+	}
+
+	public static AuditedManufacturerData allocateOffHeapData()
+	{
+		return new AuditedManufacturerData.AuditedManufacturerDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AuditedManufacturerData.AuditedManufacturerDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedManufacturerFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AuditedManufacturerData data = new AuditedManufacturerData.AuditedManufacturerDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedManufacturerFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(AuditedManufacturerData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.AuditedManufacturer", AuditedManufacturerFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("AuditedManufacturer"));
+			AuditedManufacturerData.AuditedManufacturerDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(AuditedManufacturerFinder.getPrimaryKeyAttributes(), AuditedManufacturerFinder.getAsOfAttributes(), this, AuditedManufacturerFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(AuditedManufacturerFinder.getPrimaryKeyAttributes(), AuditedManufacturerFinder.getAsOfAttributes(), this, AuditedManufacturerFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(AuditedManufacturerFinder.getPrimaryKeyAttributes(), AuditedManufacturerFinder.getAsOfAttributes(), this, AuditedManufacturerFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(AuditedManufacturerFinder.getPrimaryKeyAttributes(), AuditedManufacturerFinder.getAsOfAttributes(), this, AuditedManufacturerFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(AuditedManufacturerFinder.getPrimaryKeyAttributes(), AuditedManufacturerFinder.getAsOfAttributes(), this, AuditedManufacturerFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(AuditedManufacturerData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.AuditedManufacturer", AuditedManufacturerFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			AuditedManufacturerData.AuditedManufacturerDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(AuditedManufacturerFinder.getPrimaryKeyAttributes(), AuditedManufacturerFinder.getAsOfAttributes(), this, AuditedManufacturerFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(AuditedManufacturerFinder.getPrimaryKeyAttributes(), AuditedManufacturerFinder.getAsOfAttributes(), this, AuditedManufacturerFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AuditedManufacturerFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AuditedManufacturerFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AuditedManufacturer.zConfigFullTx();
+		}
+		else
+		{
+			AuditedManufacturer.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAuditedManufacturerData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAuditedManufacturerData(1, (AuditedManufacturerData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAuditedManufacturerPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAuditedManufacturerTableName();
+	}
+
+	public String getAuditedManufacturerTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditedManufacturerData data = (AuditedManufacturerData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (AuditedManufacturerFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditedManufacturerData data = (AuditedManufacturerData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == AuditedManufacturerFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (AuditedManufacturerFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.\"NAME\",t0.CREDIT_RATING,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*5);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("\"NAME\"");
+		result.append(",").append(databaseAlias).append(".").append("CREDIT_RATING");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AuditedManufacturerData inflateAuditedManufacturerData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		AuditedManufacturerData data = inflateAuditedManufacturerPkData(rs, dt);
+		inflateNonPkAuditedManufacturerData(2, data, rs, dt);
+		return data;
+	}
+
+	public AuditedManufacturerData inflateAuditedManufacturerPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		AuditedManufacturerData _data = new AuditedManufacturerData.AuditedManufacturerDataOnHeap();
+		int _pos = 1;
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkAuditedManufacturerData(int _pos, AuditedManufacturerData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			AuditedManufacturerData _data = _datax;
+			_data.setName(trimString(_rs.getString(_pos++)));
+			_data.setCreditRating(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCreditRatingNull();
+			}
+
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				AuditedManufacturerFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getAuditedManufacturerTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "AUDITED_MANUFACTURER";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AuditedManufacturerData data = (AuditedManufacturerData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		if (data.isNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getName());
+		}
+
+		if (data.isCreditRatingNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getCreditRating());
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == AuditedManufacturerFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,\"NAME\",CREDIT_RATING,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		AuditedManufacturer newObject = new AuditedManufacturer(asOfDates[0]
+		);
+		newObject.zSetFromAuditedManufacturerData((AuditedManufacturerData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new AuditOnlyTransactionalDataContainer(tx.getPerPortalTemporalContainer(AuditedManufacturerFinder.getMithraObjectPortal(),
+			AuditedManufacturerFinder.processingDate())
+		);
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditedManufacturerData data = (AuditedManufacturerData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		throw new RuntimeException("not implemented");
+	}
+}
@@ -0,0 +1,853 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditedManufacturerFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditedManufacturer";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditedManufacturer";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedManufacturer");
+	private static final AuditedManufacturerSingleFinder<AuditedManufacturer, Object, AuditedManufacturer> finder = new AuditedManufacturerSingleFinder<AuditedManufacturer, Object, AuditedManufacturer>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditedManufacturerFinder.AuditedManufacturerRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("creditRating");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("auditedOrderItems");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = AuditedManufacturerFinder.id().constructEqualityMapper(AuditedOrderItemFinder.manufacturerId());
+			result[1] = AuditedOrderItemFinder.manufacturerId().constructEqualityMapper(AuditedManufacturerFinder.id());
+			result[2] = AuditedManufacturerFinder.processingDate().constructEqualityMapper(AuditedOrderItemFinder.processingDate());
+			result[3] = AuditedOrderItemFinder.processingDate().constructEqualityMapper(AuditedManufacturerFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AuditedManufacturer findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditedManufacturer findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditedManufacturerList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedManufacturerList) finder.findMany(operation);
+	}
+
+	public static AuditedManufacturerList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedManufacturerList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditedManufacturer findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditedManufacturer) FinderUtils.findOne(found);
+	}
+
+	public static AuditedManufacturer findByPrimaryKey(int id, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedManufacturerData _castedTargetData = (AuditedManufacturerData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return AuditedManufacturerFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static AuditedManufacturer zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditedManufacturer) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditedManufacturerRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditedManufacturer, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private IntegerAttribute<ParentOwnerType> creditRating;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AuditedManufacturerAuditedOrderItemsFinderSubclass<ParentOwnerType> auditedOrderItems;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditedManufacturerRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditedManufacturerRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedManufacturerFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditedManufacturerFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditedManufacturerFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditedManufacturerFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.id();
+			attributes[1] = this.name();
+			attributes[2] = this.creditRating();
+			attributes[3] = this.processingDateFrom();
+			attributes[4] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.auditedOrderItems());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.auditedOrderItems());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditedManufacturer findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedManufacturerFinder.findOne(operation, false);
+		}
+
+		public AuditedManufacturer findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedManufacturerFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditedManufacturer> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditedManufacturerList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditedManufacturer> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditedManufacturerList result = (AuditedManufacturerList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditedManufacturer> constructEmptyList()
+		{
+			return new AuditedManufacturerList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 666152281;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedManufacturerFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,16,-1,-1,64,true, false) :
+					new MappedStringAttribute(AuditedManufacturerFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> creditRating()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.creditRating;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CREDIT_RATING","","creditRating",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,12,4,0,false, false) :
+					new MappedIntegerAttribute(AuditedManufacturerFinder.creditRating(), this.mapper, this.zGetValueSelector());
+				this.creditRating = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditedManufacturerFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedManufacturerFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditedManufacturerFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedManufacturerFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),AuditedManufacturerFinder.processingDateInfinity,false,false,AuditedManufacturerFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditedManufacturerFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedManufacturer> auditedOrderItems()
+		{
+			AuditedManufacturerAuditedOrderItemsFinderSubclass<ParentOwnerType> result = this.auditedOrderItems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedManufacturerFinder.zGetAuditedManufacturerAuditedOrderItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedManufacturerAuditedOrderItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.auditedOrderItems = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditedManufacturerFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditedManufacturerFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditedManufacturerCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditedManufacturerRelatedFinder<ParentOwnerType, ReturnType, AuditedManufacturerList, OwnerType>
+	{
+		public AuditedManufacturerCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditedManufacturerCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditedManufacturerCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedManufacturerCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditedManufacturerSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditedManufacturerRelatedFinder<ParentOwnerType, ReturnType, AuditedManufacturerList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditedManufacturerSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditedManufacturerSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditedManufacturer other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedManufacturer findByPrimaryKey(int id, Timestamp processingDate)
+		{
+			AuditedManufacturer _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedManufacturer) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditedManufacturerSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditedManufacturerSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedManufacturerSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper auditedOrderItemsReverseMapper = null;
+	public static Mapper zGetAuditedManufacturerAuditedOrderItemsReverseMapper()
+	{
+		if (auditedOrderItemsReverseMapper == null)
+		{
+			auditedOrderItemsReverseMapper = zConstructAuditedManufacturerAuditedOrderItemsReverseMapper();
+		}
+
+		return auditedOrderItemsReverseMapper;
+	}
+
+	private static Mapper auditedOrderItemsMapper = null;
+	public static Mapper zGetAuditedManufacturerAuditedOrderItemsMapper()
+	{
+		if (auditedOrderItemsMapper == null)
+		{
+			auditedOrderItemsMapper = zConstructAuditedManufacturerAuditedOrderItemsMapper();
+		}
+
+		return auditedOrderItemsMapper;
+	}
+
+	private static Mapper auditedOrderItemsPureReverseMapper = null;
+	public static Mapper zGetAuditedManufacturerAuditedOrderItemsPureReverseMapper()
+	{
+		if (auditedOrderItemsPureReverseMapper == null)
+		{
+			auditedOrderItemsPureReverseMapper = zConstructAuditedManufacturerAuditedOrderItemsPureReverseMapper();
+		}
+
+		return auditedOrderItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedManufacturerAuditedOrderItemsPureReverseMapper()
+	{
+		InternalList auditedOrderItemsMapperMapperList = new InternalList(2);
+		auditedOrderItemsMapperMapperList.add(AuditedManufacturerFinder.zGetConstantJoin(0));
+		auditedOrderItemsMapperMapperList.add(AuditedManufacturerFinder.zGetConstantJoin(2));
+		Mapper auditedOrderItemsMapper = new MultiEqualityMapper(auditedOrderItemsMapperMapperList);
+		auditedOrderItemsMapper.setName("auditedOrderItems");
+		return auditedOrderItemsMapper;
+	}
+
+	private static Mapper zConstructAuditedManufacturerAuditedOrderItemsReverseMapper()
+	{
+		InternalList auditedOrderItemsMapperMapperList = new InternalList(2);
+		auditedOrderItemsMapperMapperList.add(AuditedManufacturerFinder.zGetConstantJoin(0));
+		auditedOrderItemsMapperMapperList.add(AuditedManufacturerFinder.zGetConstantJoin(2));
+		Mapper auditedOrderItemsMapper = new MultiEqualityMapper(auditedOrderItemsMapperMapperList);
+		auditedOrderItemsMapper.setName("auditedOrderItems");
+		return auditedOrderItemsMapper;
+	}
+
+	private static Mapper zConstructAuditedManufacturerAuditedOrderItemsMapper()
+	{
+		InternalList auditedOrderItemsMapperMapperList = new InternalList(2);
+		auditedOrderItemsMapperMapperList.add(AuditedManufacturerFinder.zGetConstantJoin(1));
+		auditedOrderItemsMapperMapperList.add(AuditedManufacturerFinder.zGetConstantJoin(3));
+		Mapper auditedOrderItemsMapper = new MultiEqualityMapper(auditedOrderItemsMapperMapperList);
+		auditedOrderItemsMapper.setName("manufacturer");
+		return auditedOrderItemsMapper;
+	}
+
+	/** maps to AUDITED_MANUFACTURER.ID **/
+	public static IntegerAttribute<AuditedManufacturer> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to AUDITED_MANUFACTURER."NAME" **/
+	public static StringAttribute<AuditedManufacturer> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to AUDITED_MANUFACTURER.CREDIT_RATING **/
+	public static IntegerAttribute<AuditedManufacturer> creditRating()
+	{
+		return finder.creditRating();
+	}
+
+	/** maps to AUDITED_MANUFACTURER.IN_Z **/
+	public static TimestampAttribute<AuditedManufacturer> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDITED_MANUFACTURER.OUT_Z **/
+	public static TimestampAttribute<AuditedManufacturer> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<AuditedManufacturer> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<AuditedManufacturer, AuditedOrderItemList, AuditedManufacturer> auditedOrderItems()
+	{
+		return finder.auditedOrderItems();
+	}
+
+	public static class AuditedManufacturerAuditedOrderItemsFinderSubclass<ParentOwnerType> extends AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedManufacturer>
+	{
+		public AuditedManufacturerAuditedOrderItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "auditedOrderItems";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderItemFinder.manufacturerId(),
+				AuditedOrderItemFinder.processingDate()).withExtractors(
+				AuditedManufacturerFinder.id(),
+				AuditedManufacturerFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedManufacturerAuditedOrderItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((AuditedManufacturer) _obj).isAuditedOrderItemsModifiedSinceDetachment();
+		}
+
+		protected AuditedOrderItemList plainValueOf(AuditedManufacturer _obj)
+		{
+			return _obj.getAuditedOrderItems();
+		}
+
+		protected AuditedOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((AuditedManufacturerList)_obj).getAuditedOrderItems();
+		}
+	}
+
+	public static Operation eq(AuditedManufacturer other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static AuditedManufacturerSingleFinder<AuditedManufacturer, Object, AuditedManufacturer> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedManufacturer");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
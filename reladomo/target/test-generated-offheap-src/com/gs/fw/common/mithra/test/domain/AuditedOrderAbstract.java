@@ -0,0 +1,1983 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwo;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoAbstract;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoData;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoFinder;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class AuditedOrderAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+, OrderItemRelationInterface
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		AuditedOrderFinder.processingDate()
+	, AuditedOrderFinder.zGetDoubleAttributes(),AuditedOrderFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(AuditedOrder.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final RelationshipHashStrategy forleftNullFilteredStatus = new LeftNullFilteredStatusRhs();
+	private static final RelationshipHashStrategy fororderStatus2 = new OrderStatus2Rhs();
+	private static final RelationshipHashStrategy forbitemporalOrder = new BitemporalOrderRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedOrderStatusFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrder _castedSrcObject = (AuditedOrder) _srcObject;
+			AuditedOrderData _castedSrcData = (AuditedOrderData) _srcData;
+			AuditedOrderStatusData _castedTargetData = (AuditedOrderStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderData _castedSrcData = (AuditedOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class LeftNullFilteredStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedOrderStatusFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrder _castedSrcObject = (AuditedOrder) _srcObject;
+			AuditedOrderData _castedSrcData = (AuditedOrderData) _srcData;
+			AuditedOrderStatusData _castedTargetData = (AuditedOrderStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderData _castedSrcData = (AuditedOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderStatus2Rhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedOrderStatusTwoFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrder _castedSrcObject = (AuditedOrder) _srcObject;
+			AuditedOrderData _castedSrcData = (AuditedOrderData) _srcData;
+			AuditedOrderStatusTwoData _castedTargetData = (AuditedOrderStatusTwoData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderData _castedSrcData = (AuditedOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class BitemporalOrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrder _castedSrcObject = (AuditedOrder) _srcObject;
+			AuditedOrderData _castedSrcData = (AuditedOrderData) _srcData;
+			BitemporalOrderData _castedTargetData = (BitemporalOrderData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderData _castedSrcData = (AuditedOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		AuditedOrderItemList items =
+		(AuditedOrderItemList) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public boolean isOrderStatusModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus() instanceof NulledRelation)
+		{
+			AuditedOrderStatus _existing = this.getOriginalPersistentObject().getOrderStatus();
+			return _existing != null;
+		}
+
+		AuditedOrderStatus orderStatus =
+		(AuditedOrderStatus) _data.getOrderStatus();
+		if( orderStatus != null)
+		{
+			return orderStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public boolean isOrderStatus2ModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus2() instanceof NulledRelation)
+		{
+			AuditedOrderStatusTwo _existing = this.getOriginalPersistentObject().getOrderStatus2();
+			return _existing != null;
+		}
+
+		AuditedOrderStatusTwo orderStatus2 =
+		(AuditedOrderStatusTwo) _data.getOrderStatus2();
+		if( orderStatus2 != null)
+		{
+			return orderStatus2.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	private Object __directRefitems;
+	public AuditedOrderAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedOrderFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AuditedOrderData zSynchronizedGetData()
+	{
+		return (AuditedOrderData) super.zSynchronizedGetData();
+	}
+
+	protected void zClearAllDirectRefs()
+	{
+		__directRefitems = null;
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !AuditedOrderFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		AuditedOrderItemList items =
+		(AuditedOrderItemList ) _data.getItems();
+		AuditedOrderStatus orderStatus =
+		(AuditedOrderStatus ) _data.getOrderStatus();
+		AuditedOrderStatusTwo orderStatus2 =
+		(AuditedOrderStatusTwo ) _data.getOrderStatus2();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.cascadeInsert();
+		}
+
+		if (orderStatus2 != null)
+		{
+			orderStatus2.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		AuditedOrderFinder.AuditedOrderRelatedFinder parentFinder = (AuditedOrderFinder.AuditedOrderRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _newData = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		{
+			AuditedOrderItemList items =
+			(AuditedOrderItemList) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			AuditedOrderStatus orderStatus =
+			(AuditedOrderStatus) _newData.getOrderStatus();
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus != null, navigationStats);
+			if (orderStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatus2() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus2();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			AuditedOrderStatusTwo orderStatus2 =
+			(AuditedOrderStatusTwo) _newData.getOrderStatus2();
+			RelatedFinder dependentFinder = parentFinder.orderStatus2();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus2 != null, navigationStats);
+			if (orderStatus2 != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus2, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public AuditedOrder zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		AuditedOrderItemList items =
+		(AuditedOrderItemList ) _data.getItems();
+		AuditedOrderStatus orderStatus =
+		(AuditedOrderStatus ) _data.getOrderStatus();
+		AuditedOrderStatusTwo orderStatus2 =
+		(AuditedOrderStatusTwo ) _data.getOrderStatus2();
+		AuditedOrder original = (AuditedOrder) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.zCascadeCopyThenInsert();
+		}
+
+		if (orderStatus2 != null)
+		{
+			orderStatus2.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			AuditedOrderFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public AuditedOrder getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderAbstract result = (AuditedOrderAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (AuditedOrder ) result;
+	}
+
+	public AuditedOrder zFindOriginal()
+	{
+		AuditedOrderData data = (AuditedOrderData) this.currentData;
+		Operation op;
+		op = AuditedOrderFinder.orderId().eq(data.getOrderId());
+		op = op.and(AuditedOrderFinder.processingDate().eq(this.getProcessingDate()));
+		return AuditedOrderFinder.findOne(op);
+	}
+
+	public AuditedOrder getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderAbstract result = (AuditedOrderAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (AuditedOrder ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		if(isOrderStatusModifiedSinceDetachment()) return true;
+		if(isOrderStatus2ModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public AuditedOrder copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (AuditedOrder) behavior.updateOriginalOrInsert(this);
+	}
+
+	public AuditedOrder copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AuditedOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			AuditedOrderData data = (AuditedOrderData) this.currentData;
+			Operation op = AuditedOrderFinder.processingDate().eq(this.processingDate);
+			op = op.and(AuditedOrderFinder.orderId().eq(data.getOrderId()));
+			return AuditedOrderFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isDescriptionNull();
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.zSynchronizedGetData().isOrderDateNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.zSynchronizedGetData().isTrackingIdNull();
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zSynchronizedGetData().isUserIdNull();
+	}
+
+	public String getDescription()
+	{
+		return this.zSynchronizedGetData().getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(AuditedOrderFinder.description(), newValue, false );
+	}
+
+	public void setDescriptionUsingInPlaceUpdate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		AuditedOrderData data;
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		data = (AuditedOrderData) behavior.getCurrentDataForRead(this);
+		String current = data.getDescription();
+		if (current == null)
+		{
+			if (newValue == null) return;
+		}
+		else
+		{
+			if (current.equals(newValue)) return;
+		}
+
+		AttributeUpdateWrapper updateWrapper =
+		new StringUpdateWrapper(
+			AuditedOrderFinder.description(),
+			behavior.getCurrentDataForWrite(this),
+			newValue);
+		behavior.inPlaceUpdate(this, updateWrapper, false);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.zSynchronizedGetData().getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderFinder.orderDate(), newValue, false );
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(AuditedOrderFinder.orderId(), newValue, true ,false);
+		if (d == null) return;
+		AuditedOrderData data = (AuditedOrderData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			AuditedOrderItemList items =
+			(AuditedOrderItemList) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+
+			AuditedOrderStatus orderStatus =
+			(AuditedOrderStatus) data.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.setOrderId(newValue);
+			}
+
+			AuditedOrderStatusTwo orderStatus2 =
+			(AuditedOrderStatusTwo) data.getOrderStatus2();
+			if (orderStatus2 != null)
+			{
+				orderStatus2.setOrderId(newValue);
+			}
+		}
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(AuditedOrderFinder.state(), newValue, false );
+	}
+
+	public String getTrackingId()
+	{
+		return this.zSynchronizedGetData().getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(AuditedOrderFinder.trackingId(), newValue, false );
+	}
+
+	public int getUserId()
+	{
+		AuditedOrderData data = this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(AuditedOrderFinder.userId(), newValue, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, AuditedOrderFinder.userId(), false, mustCheckCurrent);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(AuditedOrderFinder.userId(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		behavior.cascadeUpdateInPlaceBeforeTerminate(this);
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate(MithraDataObject _data)
+	{
+		AuditedOrderData _newData = (AuditedOrderData) _data;
+		this.setDescriptionUsingInPlaceUpdate(_newData.getDescription());
+		{
+			AuditedOrderItemList items =
+			(AuditedOrderItemList) _newData.getItems();
+			if (items != null)
+			{
+				items.zCascadeUpdateInPlaceBeforeTerminate();
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			AuditedOrderStatus orderStatus =
+			(AuditedOrderStatus) ((NulledRelation)_newData.getOrderStatus()).getOriginal();
+			if (orderStatus != null)
+			{
+				orderStatus.zCascadeUpdateInPlaceBeforeTerminate();
+			}
+		}
+		else
+		{
+			AuditedOrderStatus orderStatus =
+			(AuditedOrderStatus) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				AuditedOrderStatus _existing =
+				this.getOrderStatus();
+				if (_existing != null)
+				{
+					_existing.zCascadeUpdateInPlaceBeforeTerminate(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+
+		if (_newData.getOrderStatus2() instanceof NulledRelation)
+		{
+			AuditedOrderStatusTwo orderStatus2 =
+			(AuditedOrderStatusTwo) ((NulledRelation)_newData.getOrderStatus2()).getOriginal();
+			if (orderStatus2 != null)
+			{
+				orderStatus2.zCascadeUpdateInPlaceBeforeTerminate();
+			}
+		}
+		else
+		{
+			AuditedOrderStatusTwo orderStatus2 =
+			(AuditedOrderStatusTwo) _newData.getOrderStatus2();
+			if (orderStatus2 != null)
+			{
+				AuditedOrderStatusTwo _existing =
+				this.getOrderStatus2();
+				if (_existing != null)
+				{
+					_existing.zCascadeUpdateInPlaceBeforeTerminate(orderStatus2.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AuditedOrderData _newData = (AuditedOrderData) _data;
+		{
+			AuditedOrderItemList items =
+			(AuditedOrderItemList) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			AuditedOrderStatus _detached =(AuditedOrderStatus) ((NulledRelation)_newData.getOrderStatus()).getOriginal();
+			if (_detached != null)
+			{
+				_detached.zCascadeUpdateInPlaceBeforeTerminate();
+			}
+
+			AuditedOrderStatus orderStatus =
+			this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			AuditedOrderStatus orderStatus =
+			(AuditedOrderStatus) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				AuditedOrderStatus _existing =
+				this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+
+		if (_newData.getOrderStatus2() instanceof NulledRelation)
+		{
+			AuditedOrderStatusTwo _detached =(AuditedOrderStatusTwo) ((NulledRelation)_newData.getOrderStatus2()).getOriginal();
+			if (_detached != null)
+			{
+				_detached.zCascadeUpdateInPlaceBeforeTerminate();
+			}
+
+			AuditedOrderStatusTwo orderStatus2 =
+			this.getOrderStatus2();
+			if (orderStatus2 != null)
+			{
+				orderStatus2.cascadeTerminate();
+			}
+		}
+		else
+		{
+			AuditedOrderStatusTwo orderStatus2 =
+			(AuditedOrderStatusTwo) _newData.getOrderStatus2();
+			if (orderStatus2 != null)
+			{
+				AuditedOrderStatusTwo _existing =
+				this.getOrderStatus2();
+				if (_existing == null)
+				{
+					orderStatus2.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus2.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus2.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		AuditedOrderData _newData = (AuditedOrderData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((AuditedOrderItemList)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((AuditedOrderStatus)_newData.getOrderStatus()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus2() != null && !(_newData.getOrderStatus2() instanceof NulledRelation))
+		{
+			((AuditedOrderStatusTwo)_newData.getOrderStatus2()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		AuditedOrderData _newData = (AuditedOrderData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((AuditedOrderItemList)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((AuditedOrderStatus)_newData.getOrderStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus2() != null && !(_newData.getOrderStatus2() instanceof NulledRelation))
+		{
+			((AuditedOrderStatusTwo)_newData.getOrderStatus2()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId</pre>
+	* @see AuditedOrderItem#getOrder() reverse relationship AuditedOrderItem.getOrder()
+	* @return items
+	*/
+	public AuditedOrderItemList getItems()
+	{
+		AuditedOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderFinder.items().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (AuditedOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderFinder.items().zGetRelationshipMultiExtractor(), this);
+					_result = new AuditedOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				_result = new AuditedOrderItemList();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditedOrderItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(AuditedOrderItemList items)
+	{
+		AuditedOrderItemList _items = (AuditedOrderItemList) items;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(new RelationshipMultiEqualityOperation(AuditedOrderFinder.items().zGetRelationshipMultiExtractor(), this),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			AuditedOrderItemList itemsToDelete = new AuditedOrderItemList();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				AuditedOrderItem item = _items.getAuditedOrderItemAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.processingDate equalsEdgePoint</pre>
+	* @return items for all time
+	*/
+	public AuditedOrderItemList getItemsForAllTime()
+	{
+		AuditedOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.zGetConstantOperation(0));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.zGetConstantOperation(0));
+					_result = new AuditedOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderItemList) _data.getItemsForAllTime();
+			if (_result == null)
+			{
+				{
+					_op = AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.zGetConstantOperation(0));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditedOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setItemsForAllTime(AuditedOrderItemList itemsForAllTime)
+	{
+		AuditedOrderItemList _itemsForAllTime = (AuditedOrderItemList) itemsForAllTime;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setItemsForAllTime(_itemsForAllTime);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId</pre>
+	* @see AuditedOrderItem#getDirectRefOrder() reverse relationship AuditedOrderItem.getDirectRefOrder()
+	* @return direct refitems
+	*/
+	public AuditedOrderItemList getDirectRefitems()
+	{
+		AuditedOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = AuditedOrderItemFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = this.__directRefitems;
+						_result = (AuditedOrderItemList) _portal.unwrapToManyRelatedObject(o);
+						if (_result != null)
+						{
+							return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.zClearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderFinder.directRefitems().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderFinder.directRefitems().zGetRelationshipMultiExtractor(), this);
+					_result = new AuditedOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderItemList) _data.getDirectRefitems();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderFinder.directRefitems().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditedOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			this.__directRefitems = (_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setDirectRefitems(AuditedOrderItemList directRefitems)
+	{
+		AuditedOrderItemList _directRefitems = (AuditedOrderItemList) directRefitems;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDirectRefitems(_directRefitems);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderStatus.orderId = this.orderId</pre>
+	* @see AuditedOrderStatus#getOrder() reverse relationship AuditedOrderStatus.getOrder()
+	* @return The order status
+	*/
+	public AuditedOrderStatus getOrderStatus()
+	{
+		AuditedOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = AuditedOrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedOrderStatus) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderFinder.orderStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (AuditedOrderStatus) _data.getOrderStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderFinder.orderStatus().zGetRelationshipMultiExtractor(), this);
+					_result = AuditedOrderStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderStatus) _data.getOrderStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(AuditedOrderStatus orderStatus)
+	{
+		AuditedOrderStatus _orderStatus = (AuditedOrderStatus) orderStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus();
+			_data.setOrderStatus(_orderStatus);
+			if (_orderStatus != null)
+			{
+				_orderStatus.setOrderId(_data.getOrderId());
+				_orderStatus.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			AuditedOrderStatus _existing = this.getOrderStatus();
+			if (_orderStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_orderStatus != null)
+				{
+					_orderStatus.setOrderId(_data.getOrderId());
+					_orderStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public AuditedOrderItem getItemForProduct(int productId)
+	{
+		AuditedOrderItem _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(AuditedOrderItemFinder.productId().eq(productId));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedOrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public AuditedOrderItem getItemForProductSet(IntHashSet productIds)
+	{
+		AuditedOrderItem _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(AuditedOrderItemFinder.productId().in(productIds));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedOrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public AuditedOrderItemList getExpensiveItems(double price)
+	{
+		AuditedOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(AuditedOrderItemFinder.originalPrice().greaterThanEquals(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditedOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public List getCheapItems(double price)
+	{
+		AuditedOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(AuditedOrderItemFinder.originalPrice().lessThan(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditedOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and this.userId is not null</pre>
+	* @return left null filtered items
+	*/
+	public AuditedOrderItemList getLeftNullFilteredItems()
+	{
+		AuditedOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isUserIdNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderFinder.leftNullFilteredItems().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new AuditedOrderItemList( new None (
+					AuditedOrderItemFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isUserIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderFinder.leftNullFilteredItems().zGetRelationshipMultiExtractor(), this);
+					_result = new AuditedOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new AuditedOrderItemList( new None (
+						AuditedOrderItemFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderItemList) _data.getLeftNullFilteredItems();
+			if (_result == null)
+			{
+				if (!_data.isUserIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderFinder.leftNullFilteredItems().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new AuditedOrderItemList( new None (
+						AuditedOrderItemFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditedOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setLeftNullFilteredItems(AuditedOrderItemList leftNullFilteredItems)
+	{
+		AuditedOrderItemList _leftNullFilteredItems = (AuditedOrderItemList) leftNullFilteredItems;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setLeftNullFilteredItems(_leftNullFilteredItems);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderStatus.orderId = this.orderId and this.userId is not null</pre>
+	* @return The left null filtered status
+	*/
+	public AuditedOrderStatus getLeftNullFilteredStatus()
+	{
+		AuditedOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isUserIdNull())
+			{
+				_portal = AuditedOrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forleftNullFilteredStatus,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedOrderStatus) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderFinder.leftNullFilteredStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isUserIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderFinder.leftNullFilteredStatus().zGetRelationshipMultiExtractor(), this);
+					_result = AuditedOrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderStatus) _data.getLeftNullFilteredStatus();
+			if (_result == null)
+			{
+				if (!_data.isUserIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderFinder.leftNullFilteredStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setLeftNullFilteredStatus(AuditedOrderStatus leftNullFilteredStatus)
+	{
+		AuditedOrderStatus _leftNullFilteredStatus = (AuditedOrderStatus) leftNullFilteredStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setLeftNullFilteredStatus(_leftNullFilteredStatus);
+			if (_leftNullFilteredStatus == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_leftNullFilteredStatus.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_leftNullFilteredStatus == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_leftNullFilteredStatus.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderStatusTwo.orderId = this.orderId</pre>
+	* @see AuditedOrderStatusTwo#getOrder() reverse relationship AuditedOrderStatusTwo.getOrder()
+	* @return The order status2
+	*/
+	public AuditedOrderStatusTwo getOrderStatus2()
+	{
+		AuditedOrderStatusTwo _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = AuditedOrderStatusTwoFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus2,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedOrderStatusTwo) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderFinder.orderStatus2().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus2() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (AuditedOrderStatusTwo) _data.getOrderStatus2();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderFinder.orderStatus2().zGetRelationshipMultiExtractor(), this);
+					_result = AuditedOrderStatusTwoFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus2(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderStatusTwo) _data.getOrderStatus2();
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedOrderStatusTwoFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus2(AuditedOrderStatusTwo orderStatus2)
+	{
+		AuditedOrderStatusTwo _orderStatus2 = (AuditedOrderStatusTwo) orderStatus2;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus2();
+			_data.setOrderStatus2(_orderStatus2);
+			if (_orderStatus2 != null)
+			{
+				_orderStatus2.setOrderId(_data.getOrderId());
+				_orderStatus2.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus2(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			AuditedOrderStatusTwo _existing = this.getOrderStatus2();
+			if (_orderStatus2 != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_orderStatus2 != null)
+				{
+					_orderStatus2.setOrderId(_data.getOrderId());
+					_orderStatus2.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrder.orderId and BitemporalOrder.businessDate = {businessDate}</pre>
+	* @return The bitemporal order
+	*/
+	public BitemporalOrder getBitemporalOrder(Timestamp businessDate)
+	{
+		BitemporalOrder _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		{
+			{
+				_portal = BitemporalOrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forbitemporalOrder,businessDate,this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrder) _related;
+				if (_related == null)
+				{
+					_op = BitemporalOrderFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalOrderFinder.businessDate().eq(businessDate));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItemStatus.itemId = AuditedOrderItem.id</pre>
+	* @return item status
+	*/
+	public AuditedOrderItemStatusList getItemStatus()
+	{
+		AuditedOrderItemStatusList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(AuditedOrderFinder.zGetItemStatusMapperFragment(), AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(AuditedOrderFinder.zGetItemStatusMapperFragment(), AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.processingDate().eq(this.getProcessingDate())));
+					_result = new AuditedOrderItemStatusList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderItemStatusList) _data.getItemStatus();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(AuditedOrderFinder.zGetItemStatusMapperFragment(), AuditedOrderItemFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderItemFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditedOrderItemStatusList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setItemStatus(AuditedOrderItemStatusList itemStatus)
+	{
+		AuditedOrderItemStatusList _itemStatus = (AuditedOrderItemStatusList) itemStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderData _data = (AuditedOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setItemStatus(_itemStatus);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedOrderFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AuditedOrderData.AuditedOrderDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedOrderData data = (AuditedOrderData) AuditedOrderFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedOrder has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromAuditedOrderData( AuditedOrderData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromAuditedOrderData( AuditedOrderData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) AuditedOrderFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedOrderFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrder getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(AuditedOrderAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		AuditedOrderAbstract from = (AuditedOrderAbstract) f;
+		AuditedOrderData newData = from.zSynchronizedGetData();
+		this.setDescription(newData.getDescription());
+		this.setOrderDate(newData.getOrderDate());
+		this.setState(newData.getState());
+		this.setTrackingId(newData.getTrackingId());
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNull();
+		}
+		else
+		{
+			this.setUserId(newData.getUserId());
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		AuditedOrderData newData = (AuditedOrderData) d;
+		AuditedOrderData data = (AuditedOrderData) nd;
+		if (AuditedOrderFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AuditedOrderFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, AuditedOrderFinder.orderDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderFinder.orderId(), false);
+		changed |= zUpdateString(behavior, data, newData, AuditedOrderFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, AuditedOrderFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderFinder.userId(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getItems().cascadeTerminateAll();
+		{
+			AuditedOrderStatus related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		{
+			AuditedOrderStatusTwo related = this.getOrderStatus2();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedOrderData data = ((AuditedOrderData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderData data = ((AuditedOrderData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderData data = ((AuditedOrderData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedOrderFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedOrderData localData = (AuditedOrderData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderItem item = (AuditedOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(AuditedOrderAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderItem item = (AuditedOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderStatus item = (AuditedOrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(AuditedOrderAbstract.this);
+		}
+	}
+
+	protected class OrderStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderStatus item = (AuditedOrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatus2AddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderStatusTwo item = (AuditedOrderStatusTwo) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(AuditedOrderAbstract.this);
+		}
+	}
+
+	protected class OrderStatus2AddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderStatusTwo item = (AuditedOrderStatusTwo) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
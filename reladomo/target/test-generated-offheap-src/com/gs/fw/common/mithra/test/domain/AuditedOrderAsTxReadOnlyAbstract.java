@@ -0,0 +1,577 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class AuditedOrderAsTxReadOnlyAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		AuditedOrderAsTxReadOnlyFinder.processingDate()
+	, AuditedOrderAsTxReadOnlyFinder.zGetDoubleAttributes(),AuditedOrderAsTxReadOnlyFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(AuditedOrderAsTxReadOnly.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public AuditedOrderAsTxReadOnlyAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedOrderAsTxReadOnlyFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AuditedOrderAsTxReadOnlyData zSynchronizedGetData()
+	{
+		return (AuditedOrderAsTxReadOnlyData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !AuditedOrderAsTxReadOnlyFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public AuditedOrderAsTxReadOnly zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderAsTxReadOnly original = (AuditedOrderAsTxReadOnly) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			AuditedOrderAsTxReadOnlyFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public AuditedOrderAsTxReadOnly getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderAsTxReadOnlyAbstract result = (AuditedOrderAsTxReadOnlyAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (AuditedOrderAsTxReadOnly ) result;
+	}
+
+	public AuditedOrderAsTxReadOnly zFindOriginal()
+	{
+		AuditedOrderAsTxReadOnlyData data = (AuditedOrderAsTxReadOnlyData) this.currentData;
+		Operation op;
+		op = AuditedOrderAsTxReadOnlyFinder.orderId().eq(data.getOrderId());
+		op = op.and(AuditedOrderAsTxReadOnlyFinder.processingDate().eq(this.getProcessingDate()));
+		return AuditedOrderAsTxReadOnlyFinder.findOne(op);
+	}
+
+	public AuditedOrderAsTxReadOnly getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderAsTxReadOnlyAbstract result = (AuditedOrderAsTxReadOnlyAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (AuditedOrderAsTxReadOnly ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public AuditedOrderAsTxReadOnly copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (AuditedOrderAsTxReadOnly) behavior.updateOriginalOrInsert(this);
+	}
+
+	public AuditedOrderAsTxReadOnly copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AuditedOrderAsTxReadOnly) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			AuditedOrderAsTxReadOnlyData data = (AuditedOrderAsTxReadOnlyData) this.currentData;
+			Operation op = AuditedOrderAsTxReadOnlyFinder.processingDate().eq(this.processingDate);
+			op = op.and(AuditedOrderAsTxReadOnlyFinder.orderId().eq(data.getOrderId()));
+			return AuditedOrderAsTxReadOnlyFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isDescriptionNull();
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.zSynchronizedGetData().isOrderDateNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.zSynchronizedGetData().isTrackingIdNull();
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zSynchronizedGetData().isUserIdNull();
+	}
+
+	public String getDescription()
+	{
+		return this.zSynchronizedGetData().getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(AuditedOrderAsTxReadOnlyFinder.description(), newValue, false );
+	}
+
+	public void setDescriptionUsingInPlaceUpdate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		AuditedOrderAsTxReadOnlyData data;
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		data = (AuditedOrderAsTxReadOnlyData) behavior.getCurrentDataForRead(this);
+		String current = data.getDescription();
+		if (current == null)
+		{
+			if (newValue == null) return;
+		}
+		else
+		{
+			if (current.equals(newValue)) return;
+		}
+
+		AttributeUpdateWrapper updateWrapper =
+		new StringUpdateWrapper(
+			AuditedOrderAsTxReadOnlyFinder.description(),
+			behavior.getCurrentDataForWrite(this),
+			newValue);
+		behavior.inPlaceUpdate(this, updateWrapper, false);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.zSynchronizedGetData().getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderAsTxReadOnlyFinder.orderDate(), newValue, false );
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(AuditedOrderAsTxReadOnlyFinder.orderId(), newValue, true ,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderAsTxReadOnlyFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderAsTxReadOnlyFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(AuditedOrderAsTxReadOnlyFinder.state(), newValue, false );
+	}
+
+	public String getTrackingId()
+	{
+		return this.zSynchronizedGetData().getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(AuditedOrderAsTxReadOnlyFinder.trackingId(), newValue, false );
+	}
+
+	public int getUserId()
+	{
+		AuditedOrderAsTxReadOnlyData data = this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(AuditedOrderAsTxReadOnlyFinder.userId(), newValue, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, AuditedOrderAsTxReadOnlyFinder.userId(), false, mustCheckCurrent);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(AuditedOrderAsTxReadOnlyFinder.userId(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		behavior.cascadeUpdateInPlaceBeforeTerminate(this);
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate(MithraDataObject _data)
+	{
+		AuditedOrderAsTxReadOnlyData _newData = (AuditedOrderAsTxReadOnlyData) _data;
+		this.setDescriptionUsingInPlaceUpdate(_newData.getDescription());
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AuditedOrderAsTxReadOnlyData _newData = (AuditedOrderAsTxReadOnlyData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		AuditedOrderAsTxReadOnlyData _newData = (AuditedOrderAsTxReadOnlyData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		AuditedOrderAsTxReadOnlyData _newData = (AuditedOrderAsTxReadOnlyData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AuditedOrderAsTxReadOnlyData.AuditedOrderAsTxReadOnlyDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedOrderAsTxReadOnlyData data = (AuditedOrderAsTxReadOnlyData) AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedOrderAsTxReadOnly has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromAuditedOrderAsTxReadOnlyData( AuditedOrderAsTxReadOnlyData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromAuditedOrderAsTxReadOnlyData( AuditedOrderAsTxReadOnlyData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderAsTxReadOnly getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(AuditedOrderAsTxReadOnlyAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		AuditedOrderAsTxReadOnlyAbstract from = (AuditedOrderAsTxReadOnlyAbstract) f;
+		AuditedOrderAsTxReadOnlyData newData = from.zSynchronizedGetData();
+		this.setDescription(newData.getDescription());
+		this.setOrderDate(newData.getOrderDate());
+		this.setState(newData.getState());
+		this.setTrackingId(newData.getTrackingId());
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNull();
+		}
+		else
+		{
+			this.setUserId(newData.getUserId());
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		AuditedOrderAsTxReadOnlyData newData = (AuditedOrderAsTxReadOnlyData) d;
+		AuditedOrderAsTxReadOnlyData data = (AuditedOrderAsTxReadOnlyData) nd;
+		if (AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AuditedOrderAsTxReadOnlyFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, AuditedOrderAsTxReadOnlyFinder.orderDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderAsTxReadOnlyFinder.orderId(), false);
+		changed |= zUpdateString(behavior, data, newData, AuditedOrderAsTxReadOnlyFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, AuditedOrderAsTxReadOnlyFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderAsTxReadOnlyFinder.userId(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedOrderAsTxReadOnlyData data = ((AuditedOrderAsTxReadOnlyData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderAsTxReadOnlyData data = ((AuditedOrderAsTxReadOnlyData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderAsTxReadOnlyData data = ((AuditedOrderAsTxReadOnlyData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedOrderAsTxReadOnlyFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedOrderAsTxReadOnlyData localData = (AuditedOrderAsTxReadOnlyData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
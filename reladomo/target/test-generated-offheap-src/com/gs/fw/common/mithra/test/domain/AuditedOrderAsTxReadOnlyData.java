@@ -0,0 +1,1075 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AuditedOrderAsTxReadOnlyData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 52;
+	boolean isDescriptionNull();
+	String getDescription();
+	void setDescription(String value);
+	void setDescriptionNull();
+	int zGetDescriptionAsInt();
+	boolean isOrderDateNull();
+	Timestamp getOrderDate();
+	void setOrderDate(Timestamp value);
+	void setOrderDateNull();
+	long zGetOrderDateAsLong();
+	boolean isOrderIdNull();
+	int getOrderId();
+	void setOrderId(int value);
+	void setOrderIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isStateNull();
+	String getState();
+	void setState(String value);
+	void setStateNull();
+	int zGetStateAsInt();
+	boolean isTrackingIdNull();
+	String getTrackingId();
+	void setTrackingId(String value);
+	void setTrackingIdNull();
+	int zGetTrackingIdAsInt();
+	boolean isUserIdNull();
+	int getUserId();
+	void setUserId(int value);
+	void setUserIdNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class AuditedOrderAsTxReadOnlyDataOnHeap implements AuditedOrderAsTxReadOnlyData
+	{
+		private byte _dataVersion;
+		private byte isNullBits0 = 0;
+		private String description;
+		private Timestamp orderDate;
+		private int orderId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String state;
+		private String trackingId;
+		private int userId;
+		public boolean isDescriptionNull()
+		{
+			return this.getDescription() == null;
+		}
+
+		public boolean isOrderDateNull()
+		{
+			return this.getOrderDate() == null;
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStateNull()
+		{
+			return this.getState() == null;
+		}
+
+		public boolean isTrackingIdNull()
+		{
+			return this.getTrackingId() == null;
+		}
+
+		public boolean isUserIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.description);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.orderDate);
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderAsTxReadOnlyFinder.processingDate().getInfinityDate());
+			out.writeObject(this.state);
+			out.writeObject(this.trackingId);
+			out.writeInt(this.userId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public String getDescription()
+		{
+			return this.description;
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+		}
+
+		public void setDescription(String value)
+		{
+			this.description = StringPool.getInstance().getOrAddToCache(value, AuditedOrderAsTxReadOnlyFinder.isFullCache());
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public Timestamp getOrderDate()
+		{
+			return this.orderDate;
+		}
+
+		public long zGetOrderDateAsLong()
+		{
+			if (orderDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return orderDate.getTime();
+		}
+
+		public void setOrderDate(Timestamp value)
+		{
+			this.orderDate = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderAsTxReadOnlyFinder.isFullCache(), AuditedOrderAsTxReadOnlyFinder.isOffHeap());
+		}
+
+		public void setOrderDateNull()
+		{
+			this.setOrderDate(null);
+		}
+
+		public int getOrderId()
+		{
+			return this.orderId;
+		}
+
+		public void setOrderId(int value)
+		{
+			this.orderId = value;
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderAsTxReadOnlyFinder.isFullCache(), AuditedOrderAsTxReadOnlyFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderAsTxReadOnlyFinder.isFullCache(), AuditedOrderAsTxReadOnlyFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getState()
+		{
+			return this.state;
+		}
+
+		public int zGetStateAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+		}
+
+		public void setState(String value)
+		{
+			this.state = StringPool.getInstance().getOrAddToCache(value, AuditedOrderAsTxReadOnlyFinder.isFullCache());
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public String getTrackingId()
+		{
+			return this.trackingId;
+		}
+
+		public int zGetTrackingIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(trackingId);
+		}
+
+		public void setTrackingId(String value)
+		{
+			this.trackingId = StringPool.getInstance().getOrAddToCache(value, AuditedOrderAsTxReadOnlyFinder.isFullCache());
+		}
+
+		public void setTrackingIdNull()
+		{
+			this.setTrackingId(null);
+		}
+
+		public int getUserId()
+		{
+			return this.userId;
+		}
+
+		public void setUserId(int value)
+		{
+			this.userId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setUserIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(AuditedOrderAsTxReadOnlyDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.description = this.description;
+			copy.orderDate = this.orderDate;
+			copy.orderId = this.orderId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.state = this.state;
+			copy.trackingId = this.trackingId;
+			copy.userId = this.userId;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedOrderAsTxReadOnlyFinder.isFullCache());
+			this.orderDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderAsTxReadOnlyFinder.isFullCache(), AuditedOrderAsTxReadOnlyFinder.isOffHeap());
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderAsTxReadOnlyFinder.isFullCache(), AuditedOrderAsTxReadOnlyFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderAsTxReadOnlyFinder.processingDate().getInfinityDate()), AuditedOrderAsTxReadOnlyFinder.isFullCache(), AuditedOrderAsTxReadOnlyFinder.isOffHeap());
+			this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedOrderAsTxReadOnlyFinder.isFullCache());
+			this.trackingId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedOrderAsTxReadOnlyFinder.isFullCache());
+			this.userId = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final AuditedOrderAsTxReadOnlyData otherData = (AuditedOrderAsTxReadOnlyData) other;
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderAsTxReadOnlyFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderAsTxReadOnlyFinder.isFullCache(), AuditedOrderAsTxReadOnlyFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderAsTxReadOnlyFinder.processingDate().getInfinityDate()), AuditedOrderAsTxReadOnlyFinder.isFullCache(), AuditedOrderAsTxReadOnlyFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			AuditedOrderAsTxReadOnlyDataOffHeap data = new AuditedOrderAsTxReadOnlyDataOffHeap();
+			data.setDescription(this.getDescription());
+			data.setOrderDate(this.getOrderDate());
+			data.setOrderId(this.getOrderId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setState(this.getState());
+			data.setTrackingId(this.getTrackingId());
+			data.setUserId(this.getUserId());
+			if (this.isUserIdNull()) data.setUserIdNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderAsTxReadOnlyData auditedOrderAsTxReadOnlyData = (AuditedOrderAsTxReadOnlyData) newData;
+			this.setDescription(auditedOrderAsTxReadOnlyData.getDescription());
+			this.setOrderDate(auditedOrderAsTxReadOnlyData.getOrderDate());
+			this.setProcessingDateFrom(auditedOrderAsTxReadOnlyData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderAsTxReadOnlyData.getProcessingDateTo());
+			this.setState(auditedOrderAsTxReadOnlyData.getState());
+			this.setTrackingId(auditedOrderAsTxReadOnlyData.getTrackingId());
+			this.setUserId(auditedOrderAsTxReadOnlyData.getUserId());
+			if (auditedOrderAsTxReadOnlyData.isUserIdNull()) this.setUserIdNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderAsTxReadOnlyData other = (AuditedOrderAsTxReadOnlyData) newData;
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			if (!isTrackingIdNull() ? !getTrackingId().equals(other.getTrackingId()) : !other.isTrackingIdNull())
+			{
+				return true;
+			}
+
+			if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderAsTxReadOnlyDataOnHeap copy = new AuditedOrderAsTxReadOnlyDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderAsTxReadOnlyDataOnHeap copy = new AuditedOrderAsTxReadOnlyDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderAsTxReadOnlyData otherData = (AuditedOrderAsTxReadOnlyData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderAsTxReadOnlyData otherData = (AuditedOrderAsTxReadOnlyData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderAsTxReadOnlyData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderAsTxReadOnlyData";
+		}
+	}
+
+	public class AuditedOrderAsTxReadOnlyDataOffHeap extends MithraOffHeapDataObject implements AuditedOrderAsTxReadOnlyData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public AuditedOrderAsTxReadOnlyDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 32);
+		}
+
+		public AuditedOrderAsTxReadOnlyDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isDescriptionNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isOrderDateNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isStateNull()
+		{
+			return zIsStringNull(_storage, 40);
+		}
+
+		public boolean isTrackingIdNull()
+		{
+			return zIsStringNull(_storage, 44);
+		}
+
+		public boolean isUserIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getDescription());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetOrderDateAsLong());
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderAsTxReadOnlyFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getState());
+			out.writeObject(this.getTrackingId());
+			out.writeInt(this.getUserId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isUserIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public String getDescription()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setDescription(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public Timestamp getOrderDate()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetOrderDateAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setOrderDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setOrderDateNull()
+		{
+			this.setOrderDate(null);
+		}
+
+		public int getOrderId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setOrderId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getState()
+		{
+			return zGetString(_storage, 40);
+		}
+
+		public int zGetStateAsInt()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setState(String value)
+		{
+			zSetString(_storage, value, 40);
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public String getTrackingId()
+		{
+			return zGetString(_storage, 44);
+		}
+
+		public int zGetTrackingIdAsInt()
+		{
+			return zGetInteger(_storage, 44);
+		}
+
+		public void setTrackingId(String value)
+		{
+			zSetString(_storage, value, 44);
+		}
+
+		public void setTrackingIdNull()
+		{
+			this.setTrackingId(null);
+		}
+
+		public int getUserId()
+		{
+			return zGetInteger(_storage, 48);
+		}
+
+		public void setUserId(int value)
+		{
+			zSetInteger(_storage, value, 48, 4, 0);
+		}
+
+		public void setUserIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(AuditedOrderAsTxReadOnlyDataOnHeap copy, boolean withRelationships)
+		{
+			copy.description = this.getDescription();
+			copy.orderDate = this.getOrderDate();
+			copy.orderId = this.getOrderId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.state = this.getState();
+			copy.trackingId = this.getTrackingId();
+			copy.userId = this.getUserId();
+			if (isUserIdNull())
+			{
+				copy.setUserIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetString(_storage, (String)in.readObject(), 40);
+			zSetString(_storage, (String)in.readObject(), 44);
+			zSetInteger(_storage, in.readInt(), 48, 4, 0, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof AuditedOrderAsTxReadOnlyDataOffHeap)
+			{
+				final AuditedOrderAsTxReadOnlyDataOffHeap otherData = (AuditedOrderAsTxReadOnlyDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final AuditedOrderAsTxReadOnlyData otherData = (AuditedOrderAsTxReadOnlyData) other;
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderAsTxReadOnlyFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderAsTxReadOnlyData auditedOrderAsTxReadOnlyData = (AuditedOrderAsTxReadOnlyData) newData;
+			this.setDescription(auditedOrderAsTxReadOnlyData.getDescription());
+			this.setOrderDate(auditedOrderAsTxReadOnlyData.getOrderDate());
+			this.setProcessingDateFrom(auditedOrderAsTxReadOnlyData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderAsTxReadOnlyData.getProcessingDateTo());
+			this.setState(auditedOrderAsTxReadOnlyData.getState());
+			this.setTrackingId(auditedOrderAsTxReadOnlyData.getTrackingId());
+			this.setUserId(auditedOrderAsTxReadOnlyData.getUserId());
+			if (auditedOrderAsTxReadOnlyData.isUserIdNull()) this.setUserIdNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderAsTxReadOnlyData other = (AuditedOrderAsTxReadOnlyData) newData;
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			if (!isTrackingIdNull() ? !getTrackingId().equals(other.getTrackingId()) : !other.isTrackingIdNull())
+			{
+				return true;
+			}
+
+			if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderAsTxReadOnlyDataOnHeap copy = new AuditedOrderAsTxReadOnlyDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderAsTxReadOnlyDataOnHeap copy = new AuditedOrderAsTxReadOnlyDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderAsTxReadOnlyData otherData = (AuditedOrderAsTxReadOnlyData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderAsTxReadOnlyData otherData = (AuditedOrderAsTxReadOnlyData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderAsTxReadOnlyData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderAsTxReadOnlyData";
+		}
+	}
+}
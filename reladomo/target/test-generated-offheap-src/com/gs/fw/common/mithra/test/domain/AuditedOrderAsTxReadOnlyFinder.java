@@ -0,0 +1,859 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditedOrderAsTxReadOnlyFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditedOrderAsTxReadOnly";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditedOrderAsTxReadOnly";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedOrderAsTxReadOnly");
+	private static final AuditedOrderAsTxReadOnlySingleFinder<AuditedOrderAsTxReadOnly, Object, AuditedOrderAsTxReadOnly> finder = new AuditedOrderAsTxReadOnlySingleFinder<AuditedOrderAsTxReadOnly, Object, AuditedOrderAsTxReadOnly>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byTrackingId = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditedOrderAsTxReadOnlyFinder.AuditedOrderAsTxReadOnlyRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AuditedOrderAsTxReadOnly findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditedOrderAsTxReadOnly findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditedOrderAsTxReadOnlyList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedOrderAsTxReadOnlyList) finder.findMany(operation);
+	}
+
+	public static AuditedOrderAsTxReadOnlyList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedOrderAsTxReadOnlyList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditedOrderAsTxReadOnly findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditedOrderAsTxReadOnly) FinderUtils.findOne(found);
+	}
+
+	public static AuditedOrderAsTxReadOnly findByPrimaryKey(int orderId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedOrderAsTxReadOnlyData _castedTargetData = (AuditedOrderAsTxReadOnlyData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return AuditedOrderAsTxReadOnlyFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static AuditedOrderAsTxReadOnly findByTrackingId(String trackingId, Timestamp processingDate)
+	{
+		return finder.findByTrackingId(trackingId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forTrackingId = new TrackingIdRhs();
+	private static final class TrackingIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedOrderAsTxReadOnlyData _castedTargetData = (AuditedOrderAsTxReadOnlyData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getTrackingId()))
+			{
+				return AuditedOrderAsTxReadOnlyFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static AuditedOrderAsTxReadOnly zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditedOrderAsTxReadOnly) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditedOrderAsTxReadOnlyRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditedOrderAsTxReadOnly, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditedOrderAsTxReadOnlyRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditedOrderAsTxReadOnlyRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderAsTxReadOnlyFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditedOrderAsTxReadOnlyFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditedOrderAsTxReadOnlyFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditedOrderAsTxReadOnlyFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditedOrderAsTxReadOnly findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedOrderAsTxReadOnlyFinder.findOne(operation, false);
+		}
+
+		public AuditedOrderAsTxReadOnly findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedOrderAsTxReadOnlyFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditedOrderAsTxReadOnly> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditedOrderAsTxReadOnlyList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditedOrderAsTxReadOnly> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditedOrderAsTxReadOnlyList result = (AuditedOrderAsTxReadOnlyList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditedOrderAsTxReadOnly> constructEmptyList()
+		{
+			return new AuditedOrderAsTxReadOnlyList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -2084371872;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedOrderAsTxReadOnlyFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderAsTxReadOnlyFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,48,4,0,false, false) :
+					new MappedIntegerAttribute(AuditedOrderAsTxReadOnlyFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,50,true, false) :
+					new MappedStringAttribute(AuditedOrderAsTxReadOnlyFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,40,-1,-1,20,true, false) :
+					new MappedStringAttribute(AuditedOrderAsTxReadOnlyFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,44,-1,-1,15,true, false) :
+					new MappedStringAttribute(AuditedOrderAsTxReadOnlyFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditedOrderAsTxReadOnlyFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderAsTxReadOnlyFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditedOrderAsTxReadOnlyFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderAsTxReadOnlyFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),AuditedOrderAsTxReadOnlyFinder.processingDateInfinity,false,false,AuditedOrderAsTxReadOnlyFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditedOrderAsTxReadOnlyFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditedOrderAsTxReadOnlyFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditedOrderAsTxReadOnlyCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditedOrderAsTxReadOnlyRelatedFinder<ParentOwnerType, ReturnType, AuditedOrderAsTxReadOnlyList, OwnerType>
+	{
+		public AuditedOrderAsTxReadOnlyCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditedOrderAsTxReadOnlyCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditedOrderAsTxReadOnlyCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedOrderAsTxReadOnlyCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditedOrderAsTxReadOnlySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditedOrderAsTxReadOnlyRelatedFinder<ParentOwnerType, ReturnType, AuditedOrderAsTxReadOnlyList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditedOrderAsTxReadOnlySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditedOrderAsTxReadOnlySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditedOrderAsTxReadOnly other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedOrderAsTxReadOnly findByPrimaryKey(int orderId, Timestamp processingDate)
+		{
+			AuditedOrderAsTxReadOnly _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedOrderAsTxReadOnly) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedOrderAsTxReadOnly findByTrackingId(String trackingId, Timestamp processingDate)
+		{
+			AuditedOrderAsTxReadOnly _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (trackingId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(trackingId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forTrackingId, processingDate, null, AuditedOrderAsTxReadOnlyFinder.zGetIndexbyTrackingIdRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedOrderAsTxReadOnly) _related;
+			if (_related == null)
+			{
+				_op = this.trackingId().eq(trackingId).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditedOrderAsTxReadOnlySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditedOrderAsTxReadOnlySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedOrderAsTxReadOnlySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to AUDITED_ORDER_TX_READONLY.ORDER_ID **/
+	public static IntegerAttribute<AuditedOrderAsTxReadOnly> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to AUDITED_ORDER_TX_READONLY.ORDER_DATE **/
+	public static TimestampAttribute<AuditedOrderAsTxReadOnly> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to AUDITED_ORDER_TX_READONLY.USER_ID **/
+	public static IntegerAttribute<AuditedOrderAsTxReadOnly> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to AUDITED_ORDER_TX_READONLY.DESCRIPTION **/
+	public static StringAttribute<AuditedOrderAsTxReadOnly> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to AUDITED_ORDER_TX_READONLY."STATE" **/
+	public static StringAttribute<AuditedOrderAsTxReadOnly> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to AUDITED_ORDER_TX_READONLY.TRACKING_ID **/
+	public static StringAttribute<AuditedOrderAsTxReadOnly> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	/** maps to AUDITED_ORDER_TX_READONLY.IN_Z **/
+	public static TimestampAttribute<AuditedOrderAsTxReadOnly> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDITED_ORDER_TX_READONLY.OUT_Z **/
+	public static TimestampAttribute<AuditedOrderAsTxReadOnly> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<AuditedOrderAsTxReadOnly> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(AuditedOrderAsTxReadOnly other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static AuditedOrderAsTxReadOnlySingleFinder<AuditedOrderAsTxReadOnly, Object, AuditedOrderAsTxReadOnly> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("byUserId", new Attribute[] 
+		{
+			userId()
+		}
+
+		);
+		cache.addIndex("byState", new Attribute[] 
+		{
+			state()
+		}
+
+		);
+		INDEX_byTrackingId = cache.addUniqueIndex("byTrackingId", new Attribute[] 
+		{
+			trackingId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyTrackingIdRef() 
+	{
+		return INDEX_byTrackingId; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedOrderAsTxReadOnly");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedOrderAsTxReadOnlyListAbstract extends DelegatingList<AuditedOrderAsTxReadOnly> implements MithraDatedTransactionalList<AuditedOrderAsTxReadOnly>
+{
+	public AuditedOrderAsTxReadOnlyListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedOrderAsTxReadOnlyListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedOrderAsTxReadOnlyListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedOrderAsTxReadOnlyListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AuditedOrderAsTxReadOnly[] elements()
+	{
+		AuditedOrderAsTxReadOnly[] result = new AuditedOrderAsTxReadOnly[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedOrderAsTxReadOnlyList intersection(AuditedOrderAsTxReadOnlyList another)
+	{
+		return (AuditedOrderAsTxReadOnlyList)super.intersection(another);
+	}
+
+	public AuditedOrderAsTxReadOnly getAuditedOrderAsTxReadOnlyAt(int index)
+	{
+		return (AuditedOrderAsTxReadOnly)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedOrderAsTxReadOnlyFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderAsTxReadOnlyList getNonPersistentCopy()
+	{
+		AuditedOrderAsTxReadOnlyList result = new AuditedOrderAsTxReadOnlyList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedOrderAsTxReadOnlyList asAdhoc()
+	{
+		return (AuditedOrderAsTxReadOnlyList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AuditedOrderAsTxReadOnly> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AuditedOrderAsTxReadOnlyList merge(MithraTransactionalList<AuditedOrderAsTxReadOnly> incoming, TopLevelMergeOptions<AuditedOrderAsTxReadOnly> mergeOptions)
+	{
+		return (AuditedOrderAsTxReadOnlyList) super.merge(incoming, mergeOptions);
+	}
+
+	public AuditedOrderAsTxReadOnlyList getDetachedCopy()
+	{
+		AuditedOrderAsTxReadOnlyList result = new AuditedOrderAsTxReadOnlyList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(AuditedOrderAsTxReadOnlyFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderAsTxReadOnlyFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(AuditedOrderAsTxReadOnlyFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AuditedOrderAsTxReadOnlyFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(AuditedOrderAsTxReadOnlyFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(AuditedOrderAsTxReadOnlyFinder.trackingId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderAsTxReadOnlyFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderAsTxReadOnlyFinder.processingDateTo(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(AuditedOrderAsTxReadOnlyFinder.userId());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1358 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwo;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoAbstract;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoData;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoFinder;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AuditedOrderData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 52;
+	boolean isDescriptionNull();
+	String getDescription();
+	void setDescription(String value);
+	void setDescriptionNull();
+	int zGetDescriptionAsInt();
+	boolean isOrderDateNull();
+	Timestamp getOrderDate();
+	void setOrderDate(Timestamp value);
+	void setOrderDateNull();
+	long zGetOrderDateAsLong();
+	boolean isOrderIdNull();
+	int getOrderId();
+	void setOrderId(int value);
+	void setOrderIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isStateNull();
+	String getState();
+	void setState(String value);
+	void setStateNull();
+	int zGetStateAsInt();
+	boolean isTrackingIdNull();
+	String getTrackingId();
+	void setTrackingId(String value);
+	void setTrackingIdNull();
+	int zGetTrackingIdAsInt();
+	boolean isUserIdNull();
+	int getUserId();
+	void setUserId(int value);
+	void setUserIdNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getItems();
+	void setItems(Object related);
+	Object getItemsForAllTime();
+	void setItemsForAllTime(Object related);
+	Object getDirectRefitems();
+	void setDirectRefitems(Object related);
+	Object getOrderStatus();
+	void setOrderStatus(Object related);
+	Object getLeftNullFilteredItems();
+	void setLeftNullFilteredItems(Object related);
+	Object getLeftNullFilteredStatus();
+	void setLeftNullFilteredStatus(Object related);
+	Object getOrderStatus2();
+	void setOrderStatus2(Object related);
+	Object getItemStatus();
+	void setItemStatus(Object related);
+	public class AuditedOrderDataOnHeap implements AuditedOrderData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private String description;
+		private Timestamp orderDate;
+		private int orderId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String state;
+		private String trackingId;
+		private int userId;
+		public boolean isDescriptionNull()
+		{
+			return this.getDescription() == null;
+		}
+
+		public boolean isOrderDateNull()
+		{
+			return this.getOrderDate() == null;
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStateNull()
+		{
+			return this.getState() == null;
+		}
+
+		public boolean isTrackingIdNull()
+		{
+			return this.getTrackingId() == null;
+		}
+
+		public boolean isUserIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.description);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.orderDate);
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderFinder.processingDate().getInfinityDate());
+			out.writeObject(this.state);
+			out.writeObject(this.trackingId);
+			out.writeInt(this.userId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public String getDescription()
+		{
+			return this.description;
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+		}
+
+		public void setDescription(String value)
+		{
+			this.description = StringPool.getInstance().getOrAddToCache(value, AuditedOrderFinder.isFullCache());
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public Timestamp getOrderDate()
+		{
+			return this.orderDate;
+		}
+
+		public long zGetOrderDateAsLong()
+		{
+			if (orderDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return orderDate.getTime();
+		}
+
+		public void setOrderDate(Timestamp value)
+		{
+			this.orderDate = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderFinder.isFullCache(), AuditedOrderFinder.isOffHeap());
+		}
+
+		public void setOrderDateNull()
+		{
+			this.setOrderDate(null);
+		}
+
+		public int getOrderId()
+		{
+			return this.orderId;
+		}
+
+		public void setOrderId(int value)
+		{
+			this.orderId = value;
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderFinder.isFullCache(), AuditedOrderFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderFinder.isFullCache(), AuditedOrderFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getState()
+		{
+			return this.state;
+		}
+
+		public int zGetStateAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+		}
+
+		public void setState(String value)
+		{
+			this.state = StringPool.getInstance().getOrAddToCache(value, AuditedOrderFinder.isFullCache());
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public String getTrackingId()
+		{
+			return this.trackingId;
+		}
+
+		public int zGetTrackingIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(trackingId);
+		}
+
+		public void setTrackingId(String value)
+		{
+			this.trackingId = StringPool.getInstance().getOrAddToCache(value, AuditedOrderFinder.isFullCache());
+		}
+
+		public void setTrackingIdNull()
+		{
+			this.setTrackingId(null);
+		}
+
+		public int getUserId()
+		{
+			return this.userId;
+		}
+
+		public void setUserId(int value)
+		{
+			this.userId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setUserIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(AuditedOrderDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.description = this.description;
+			copy.orderDate = this.orderDate;
+			copy.orderId = this.orderId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.state = this.state;
+			copy.trackingId = this.trackingId;
+			copy.userId = this.userId;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[8];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedOrderFinder.isFullCache());
+			this.orderDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderFinder.isFullCache(), AuditedOrderFinder.isOffHeap());
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderFinder.isFullCache(), AuditedOrderFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderFinder.processingDate().getInfinityDate()), AuditedOrderFinder.isFullCache(), AuditedOrderFinder.isOffHeap());
+			this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedOrderFinder.isFullCache());
+			this.trackingId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedOrderFinder.isFullCache());
+			this.userId = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final AuditedOrderData otherData = (AuditedOrderData) other;
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderFinder.isFullCache(), AuditedOrderFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderFinder.processingDate().getInfinityDate()), AuditedOrderFinder.isFullCache(), AuditedOrderFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getItems()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[2];
+			}
+
+			return null;
+		}
+
+		public void setItems(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[8];
+			}
+
+			_relationships[2] = related;
+		}
+
+		public Object getItemsForAllTime()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[3];
+			}
+
+			return null;
+		}
+
+		public void setItemsForAllTime(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[8];
+			}
+
+			_relationships[3] = related;
+		}
+
+		public Object getDirectRefitems()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setDirectRefitems(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[8];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getOrderStatus()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[6];
+			}
+
+			return null;
+		}
+
+		public void setOrderStatus(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[8];
+			}
+
+			_relationships[6] = related;
+		}
+
+		public Object getLeftNullFilteredItems()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[4];
+			}
+
+			return null;
+		}
+
+		public void setLeftNullFilteredItems(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[8];
+			}
+
+			_relationships[4] = related;
+		}
+
+		public Object getLeftNullFilteredStatus()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[5];
+			}
+
+			return null;
+		}
+
+		public void setLeftNullFilteredStatus(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[8];
+			}
+
+			_relationships[5] = related;
+		}
+
+		public Object getOrderStatus2()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[7];
+			}
+
+			return null;
+		}
+
+		public void setOrderStatus2(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[8];
+			}
+
+			_relationships[7] = related;
+		}
+
+		public Object getItemStatus()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setItemStatus(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[8];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			AuditedOrderDataOffHeap data = new AuditedOrderDataOffHeap();
+			data.setDescription(this.getDescription());
+			data.setOrderDate(this.getOrderDate());
+			data.setOrderId(this.getOrderId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setState(this.getState());
+			data.setTrackingId(this.getTrackingId());
+			data.setUserId(this.getUserId());
+			if (this.isUserIdNull()) data.setUserIdNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderData auditedOrderData = (AuditedOrderData) newData;
+			this.setDescription(auditedOrderData.getDescription());
+			this.setOrderDate(auditedOrderData.getOrderDate());
+			this.setProcessingDateFrom(auditedOrderData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderData.getProcessingDateTo());
+			this.setState(auditedOrderData.getState());
+			this.setTrackingId(auditedOrderData.getTrackingId());
+			this.setUserId(auditedOrderData.getUserId());
+			if (auditedOrderData.isUserIdNull()) this.setUserIdNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderData other = (AuditedOrderData) newData;
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			if (!isTrackingIdNull() ? !getTrackingId().equals(other.getTrackingId()) : !other.isTrackingIdNull())
+			{
+				return true;
+			}
+
+			if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderDataOnHeap copy = new AuditedOrderDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderDataOnHeap copy = new AuditedOrderDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderData otherData = (AuditedOrderData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderData otherData = (AuditedOrderData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderData";
+		}
+	}
+
+	public class AuditedOrderDataOffHeap extends MithraOffHeapDataObject implements AuditedOrderData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public AuditedOrderDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 32);
+		}
+
+		public AuditedOrderDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isDescriptionNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isOrderDateNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isStateNull()
+		{
+			return zIsStringNull(_storage, 40);
+		}
+
+		public boolean isTrackingIdNull()
+		{
+			return zIsStringNull(_storage, 44);
+		}
+
+		public boolean isUserIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getDescription());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetOrderDateAsLong());
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getState());
+			out.writeObject(this.getTrackingId());
+			out.writeInt(this.getUserId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isUserIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public String getDescription()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setDescription(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public Timestamp getOrderDate()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetOrderDateAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setOrderDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setOrderDateNull()
+		{
+			this.setOrderDate(null);
+		}
+
+		public int getOrderId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setOrderId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getState()
+		{
+			return zGetString(_storage, 40);
+		}
+
+		public int zGetStateAsInt()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setState(String value)
+		{
+			zSetString(_storage, value, 40);
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public String getTrackingId()
+		{
+			return zGetString(_storage, 44);
+		}
+
+		public int zGetTrackingIdAsInt()
+		{
+			return zGetInteger(_storage, 44);
+		}
+
+		public void setTrackingId(String value)
+		{
+			zSetString(_storage, value, 44);
+		}
+
+		public void setTrackingIdNull()
+		{
+			this.setTrackingId(null);
+		}
+
+		public int getUserId()
+		{
+			return zGetInteger(_storage, 48);
+		}
+
+		public void setUserId(int value)
+		{
+			zSetInteger(_storage, value, 48, 4, 0);
+		}
+
+		public void setUserIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(AuditedOrderDataOnHeap copy, boolean withRelationships)
+		{
+			copy.description = this.getDescription();
+			copy.orderDate = this.getOrderDate();
+			copy.orderId = this.getOrderId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.state = this.getState();
+			copy.trackingId = this.getTrackingId();
+			copy.userId = this.getUserId();
+			if (isUserIdNull())
+			{
+				copy.setUserIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetString(_storage, (String)in.readObject(), 40);
+			zSetString(_storage, (String)in.readObject(), 44);
+			zSetInteger(_storage, in.readInt(), 48, 4, 0, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof AuditedOrderDataOffHeap)
+			{
+				final AuditedOrderDataOffHeap otherData = (AuditedOrderDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final AuditedOrderData otherData = (AuditedOrderData) other;
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getItems()
+		{
+			return null;
+		}
+
+		public void setItems(Object related)
+		{
+		}
+
+		public Object getItemsForAllTime()
+		{
+			return null;
+		}
+
+		public void setItemsForAllTime(Object related)
+		{
+		}
+
+		public Object getDirectRefitems()
+		{
+			return null;
+		}
+
+		public void setDirectRefitems(Object related)
+		{
+		}
+
+		public Object getOrderStatus()
+		{
+			return null;
+		}
+
+		public void setOrderStatus(Object related)
+		{
+		}
+
+		public Object getLeftNullFilteredItems()
+		{
+			return null;
+		}
+
+		public void setLeftNullFilteredItems(Object related)
+		{
+		}
+
+		public Object getLeftNullFilteredStatus()
+		{
+			return null;
+		}
+
+		public void setLeftNullFilteredStatus(Object related)
+		{
+		}
+
+		public Object getOrderStatus2()
+		{
+			return null;
+		}
+
+		public void setOrderStatus2(Object related)
+		{
+		}
+
+		public Object getItemStatus()
+		{
+			return null;
+		}
+
+		public void setItemStatus(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderData auditedOrderData = (AuditedOrderData) newData;
+			this.setDescription(auditedOrderData.getDescription());
+			this.setOrderDate(auditedOrderData.getOrderDate());
+			this.setProcessingDateFrom(auditedOrderData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderData.getProcessingDateTo());
+			this.setState(auditedOrderData.getState());
+			this.setTrackingId(auditedOrderData.getTrackingId());
+			this.setUserId(auditedOrderData.getUserId());
+			if (auditedOrderData.isUserIdNull()) this.setUserIdNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderData other = (AuditedOrderData) newData;
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			if (!isTrackingIdNull() ? !getTrackingId().equals(other.getTrackingId()) : !other.isTrackingIdNull())
+			{
+				return true;
+			}
+
+			if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderDataOnHeap copy = new AuditedOrderDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderDataOnHeap copy = new AuditedOrderDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderData otherData = (AuditedOrderData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderData otherData = (AuditedOrderData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderData";
+		}
+	}
+}
@@ -0,0 +1,587 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwo;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoAbstract;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoData;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoFinder;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AuditedOrderDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ORDER_DATE,USER_ID,DESCRIPTION,\"STATE\",TRACKING_ID,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ORDER_DATE,t0.USER_ID,t0.DESCRIPTION,t0.\"STATE\",t0.TRACKING_ID,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ORDER_ID = ?";
+	private static final String PK_INDEX_COLS = "ORDER_ID";
+	protected AuditedOrderDatabaseObjectAbstract()
+	{
+		super("AuditedOrder", "com.gs.fw.common.mithra.test.domain.AuditedOrderFinder",
+			8, 8,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedOrderFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AuditedOrderFinder.getFinderInstance();
+	}
+
+	public static AuditedOrderData allocateOnHeapData()
+	{
+		return new AuditedOrderData.AuditedOrderDataOnHeap();
+	}
+
+	public static AuditedOrderData allocateOffHeapData()
+	{
+		return new AuditedOrderData.AuditedOrderDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AuditedOrderData.AuditedOrderDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedOrderFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AuditedOrderData data = new AuditedOrderData.AuditedOrderDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedOrderFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(AuditedOrderData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.AuditedOrder", AuditedOrderFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("AuditedOrder"));
+			AuditedOrderData.AuditedOrderDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(AuditedOrderFinder.getPrimaryKeyAttributes(), AuditedOrderFinder.getAsOfAttributes(), this, AuditedOrderFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(AuditedOrderFinder.getPrimaryKeyAttributes(), AuditedOrderFinder.getAsOfAttributes(), this, AuditedOrderFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(AuditedOrderFinder.getPrimaryKeyAttributes(), AuditedOrderFinder.getAsOfAttributes(), this, AuditedOrderFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(AuditedOrderFinder.getPrimaryKeyAttributes(), AuditedOrderFinder.getAsOfAttributes(), this, AuditedOrderFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(AuditedOrderFinder.getPrimaryKeyAttributes(), AuditedOrderFinder.getAsOfAttributes(), this, AuditedOrderFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(AuditedOrderData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.AuditedOrder", AuditedOrderFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			AuditedOrderData.AuditedOrderDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(AuditedOrderFinder.getPrimaryKeyAttributes(), AuditedOrderFinder.getAsOfAttributes(), this, AuditedOrderFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(AuditedOrderFinder.getPrimaryKeyAttributes(), AuditedOrderFinder.getAsOfAttributes(), this, AuditedOrderFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AuditedOrderFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AuditedOrderFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			AuditedOrder.zConfigFullTx();
+		}
+		else
+		{
+			AuditedOrder.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAuditedOrderData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAuditedOrderData(1, (AuditedOrderData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAuditedOrderPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAuditedOrderTableName();
+	}
+
+	public String getAuditedOrderTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditedOrderData data = (AuditedOrderData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (AuditedOrderFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditedOrderData data = (AuditedOrderData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getOrderId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == AuditedOrderFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (AuditedOrderFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ORDER_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ORDER_ID,t0.ORDER_DATE,t0.USER_ID,t0.DESCRIPTION,t0.\"STATE\",t0.TRACKING_ID,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*8);
+		result.append(databaseAlias).append(".").append("ORDER_ID");
+		result.append(",").append(databaseAlias).append(".").append("ORDER_DATE");
+		result.append(",").append(databaseAlias).append(".").append("USER_ID");
+		result.append(",").append(databaseAlias).append(".").append("DESCRIPTION");
+		result.append(",").append(databaseAlias).append(".").append("\"STATE\"");
+		result.append(",").append(databaseAlias).append(".").append("TRACKING_ID");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AuditedOrderData inflateAuditedOrderData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		AuditedOrderData data = inflateAuditedOrderPkData(rs, dt);
+		inflateNonPkAuditedOrderData(2, data, rs, dt);
+		return data;
+	}
+
+	public AuditedOrderData inflateAuditedOrderPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		AuditedOrderData _data = new AuditedOrderData.AuditedOrderDataOnHeap();
+		int _pos = 1;
+		_data.setOrderId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "orderId");
+		return _data;
+	}
+
+	public void inflateNonPkAuditedOrderData(int _pos, AuditedOrderData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			AuditedOrderData _data = _datax;
+			Timestamp orderDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setOrderDate(orderDatetimestampValue);
+			_data.setUserId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUserIdNull();
+			}
+
+			_data.setDescription(trimString(_rs.getString(_pos++)));
+			_data.setState(trimString(_rs.getString(_pos++)));
+			_data.setTrackingId(trimString(_rs.getString(_pos++)));
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				AuditedOrderFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getAuditedOrderTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "AUDITED_ORDER";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		AuditedOrderData data = (AuditedOrderData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getOrderId());
+		if (data.isOrderDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getOrderDate(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isUserIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getUserId());
+		}
+
+		if (data.isDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getDescription());
+		}
+
+		if (data.isStateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getState());
+		}
+
+		if (data.isTrackingIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrackingId());
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == AuditedOrderFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "ORDER_ID,ORDER_DATE,USER_ID,DESCRIPTION,\"STATE\",TRACKING_ID,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		AuditedOrder newObject = new AuditedOrder(asOfDates[0]
+		);
+		newObject.zSetFromAuditedOrderData((AuditedOrderData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new AuditOnlyTransactionalDataContainer(tx.getPerPortalTemporalContainer(AuditedOrderFinder.getMithraObjectPortal(),
+			AuditedOrderFinder.processingDate())
+		);
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditedOrderData data = (AuditedOrderData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getOrderId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		throw new RuntimeException("not implemented");
+	}
+}
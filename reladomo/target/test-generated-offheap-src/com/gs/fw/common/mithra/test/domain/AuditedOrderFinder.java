@@ -0,0 +1,2390 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwo;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoAbstract;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoData;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoFinder;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditedOrderFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditedOrder";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditedOrder";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedOrder");
+	private static final AuditedOrderSingleFinder<AuditedOrder, Object, AuditedOrder> finder = new AuditedOrderSingleFinder<AuditedOrder, Object, AuditedOrder>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byTrackingId = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditedOrderFinder.AuditedOrderRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("itemsForAllTime");
+		finderMethodMap.addRelationshipName("directRefitems");
+		finderMethodMap.addRelationshipName("orderStatus");
+		finderMethodMap.addRelationshipName("leftNullFilteredItems");
+		finderMethodMap.addRelationshipName("leftNullFilteredStatus");
+		finderMethodMap.addRelationshipName("orderStatus2");
+		finderMethodMap.addRelationshipName("itemStatus");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[16];
+			result[0] = AuditedOrderFinder.orderId().constructEqualityMapper(AuditedOrderItemFinder.orderId());
+			result[1] = AuditedOrderItemFinder.orderId().constructEqualityMapper(AuditedOrderFinder.orderId());
+			result[2] = AuditedOrderFinder.processingDate().constructEqualityMapper(AuditedOrderItemFinder.processingDate());
+			result[3] = AuditedOrderItemFinder.processingDate().constructEqualityMapper(AuditedOrderFinder.processingDate());
+			result[4] = AuditedOrderFinder.orderId().constructEqualityMapper(AuditedOrderStatusFinder.orderId());
+			result[5] = AuditedOrderStatusFinder.orderId().constructEqualityMapper(AuditedOrderFinder.orderId());
+			result[6] = AuditedOrderFinder.processingDate().constructEqualityMapper(AuditedOrderStatusFinder.processingDate());
+			result[7] = AuditedOrderStatusFinder.processingDate().constructEqualityMapper(AuditedOrderFinder.processingDate());
+			result[8] = AuditedOrderFinder.orderId().constructEqualityMapper(AuditedOrderStatusTwoFinder.orderId());
+			result[9] = AuditedOrderStatusTwoFinder.orderId().constructEqualityMapper(AuditedOrderFinder.orderId());
+			result[10] = AuditedOrderFinder.processingDate().constructEqualityMapper(AuditedOrderStatusTwoFinder.processingDate());
+			result[11] = AuditedOrderStatusTwoFinder.processingDate().constructEqualityMapper(AuditedOrderFinder.processingDate());
+			result[12] = AuditedOrderFinder.orderId().constructEqualityMapper(BitemporalOrderFinder.orderId());
+			result[13] = BitemporalOrderFinder.orderId().constructEqualityMapper(AuditedOrderFinder.orderId());
+			result[14] = AuditedOrderFinder.processingDate().constructEqualityMapper(BitemporalOrderFinder.processingDate());
+			result[15] = BitemporalOrderFinder.processingDate().constructEqualityMapper(AuditedOrderFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = AuditedOrderFinder.userId().isNotNull();
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AuditedOrder findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditedOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditedOrderList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedOrderList) finder.findMany(operation);
+	}
+
+	public static AuditedOrderList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedOrderList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditedOrder findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditedOrder) FinderUtils.findOne(found);
+	}
+
+	public static AuditedOrder findByPrimaryKey(int orderId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedOrderData _castedTargetData = (AuditedOrderData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return AuditedOrderFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static AuditedOrder findByTrackingId(String trackingId, Timestamp processingDate)
+	{
+		return finder.findByTrackingId(trackingId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forTrackingId = new TrackingIdRhs();
+	private static final class TrackingIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedOrderData _castedTargetData = (AuditedOrderData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getTrackingId()))
+			{
+				return AuditedOrderFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static AuditedOrder zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditedOrder) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditedOrderRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditedOrder, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements OrderItemRelationInterfaceFinder<AuditedOrder>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AuditedOrderItemsFinderSubclass<ParentOwnerType> items;
+		private AuditedOrderItemsForAllTimeFinderSubclass<ParentOwnerType> itemsForAllTime;
+		private AuditedOrderDirectRefitemsFinderSubclass<ParentOwnerType> directRefitems;
+		private AuditedOrderOrderStatusFinderSubclass<ParentOwnerType> orderStatus;
+		private AuditedOrderLeftNullFilteredItemsFinderSubclass<ParentOwnerType> leftNullFilteredItems;
+		private AuditedOrderLeftNullFilteredStatusFinderSubclass<ParentOwnerType> leftNullFilteredStatus;
+		private AuditedOrderOrderStatus2FinderSubclass<ParentOwnerType> orderStatus2;
+		private AuditedOrderItemStatusFinderSubclass<ParentOwnerType> itemStatus;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditedOrderRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditedOrderRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditedOrderFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditedOrderFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditedOrderFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(8);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.itemsForAllTime());
+				relatedFinders.add(this.directRefitems());
+				relatedFinders.add(this.orderStatus());
+				relatedFinders.add(this.leftNullFilteredItems());
+				relatedFinders.add(this.leftNullFilteredStatus());
+				relatedFinders.add(this.orderStatus2());
+				relatedFinders.add(this.itemStatus());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(3);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.orderStatus());
+				dependentRelatedFinders.add(this.orderStatus2());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditedOrder findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedOrderFinder.findOne(operation, false);
+		}
+
+		public AuditedOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedOrderFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditedOrder> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditedOrderList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditedOrder> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditedOrderList result = (AuditedOrderList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditedOrder> constructEmptyList()
+		{
+			return new AuditedOrderList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -2084371872;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedOrderFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,48,4,0,false, false) :
+					new MappedIntegerAttribute(AuditedOrderFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,50,true, false) :
+					new MappedStringAttribute(AuditedOrderFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,40,-1,-1,20,true, false) :
+					new MappedStringAttribute(AuditedOrderFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,44,-1,-1,15,true, false) :
+					new MappedStringAttribute(AuditedOrderFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditedOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditedOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),AuditedOrderFinder.processingDateInfinity,false,false,AuditedOrderFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditedOrderFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder> items()
+		{
+			AuditedOrderItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedOrderItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder> itemsForAllTime()
+		{
+			AuditedOrderItemsForAllTimeFinderSubclass<ParentOwnerType> result = this.itemsForAllTime;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderItemsForAllTimeReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedOrderItemsForAllTimeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsForAllTime = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder> directRefitems()
+		{
+			AuditedOrderDirectRefitemsFinderSubclass<ParentOwnerType> result = this.directRefitems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderDirectRefitemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedOrderDirectRefitemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.directRefitems = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderStatusFinder.AuditedOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderStatus, AuditedOrder> orderStatus()
+		{
+			AuditedOrderOrderStatusFinderSubclass<ParentOwnerType> result = this.orderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedOrderOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderItemFinder.AuditedOrderItemSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderItem, AuditedOrder> itemForProduct(int productId)
+		{
+			AuditedOrderItemForProductFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderItemForProductReverseMapper(productId));
+			newMapper.setToMany(false);
+			result = new AuditedOrderItemForProductFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productId);
+			return result;
+		}
+
+		public AuditedOrderItemFinder.AuditedOrderItemSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderItem, AuditedOrder> itemForProductSet(IntHashSet productIds)
+		{
+			AuditedOrderItemForProductSetFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderItemForProductSetReverseMapper(productIds));
+			newMapper.setToMany(false);
+			result = new AuditedOrderItemForProductSetFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productIds);
+			return result;
+		}
+
+		public AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder> expensiveItems(double price)
+		{
+			AuditedOrderExpensiveItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderExpensiveItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new AuditedOrderExpensiveItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, AuditedOrder> cheapItems(double price)
+		{
+			AuditedOrderCheapItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderCheapItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new AuditedOrderCheapItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder> leftNullFilteredItems()
+		{
+			AuditedOrderLeftNullFilteredItemsFinderSubclass<ParentOwnerType> result = this.leftNullFilteredItems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderLeftNullFilteredItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedOrderLeftNullFilteredItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.leftNullFilteredItems = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderStatusFinder.AuditedOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderStatus, AuditedOrder> leftNullFilteredStatus()
+		{
+			AuditedOrderLeftNullFilteredStatusFinderSubclass<ParentOwnerType> result = this.leftNullFilteredStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderLeftNullFilteredStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedOrderLeftNullFilteredStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.leftNullFilteredStatus = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderStatusTwoFinder.AuditedOrderStatusTwoSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderStatusTwo, AuditedOrder> orderStatus2()
+		{
+			AuditedOrderOrderStatus2FinderSubclass<ParentOwnerType> result = this.orderStatus2;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderOrderStatus2ReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedOrderOrderStatus2FinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus2 = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrder, AuditedOrder> bitemporalOrder(Timestamp businessDate)
+		{
+			AuditedOrderBitemporalOrderFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderBitemporalOrderReverseMapper(businessDate));
+			newMapper.setToMany(false);
+			result = new AuditedOrderBitemporalOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,businessDate);
+			return result;
+		}
+
+		public AuditedOrderItemStatusFinder.AuditedOrderItemStatusCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemStatusList, AuditedOrder> itemStatus()
+		{
+			AuditedOrderItemStatusFinderSubclass<ParentOwnerType> result = this.itemStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderItemStatusReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedOrderItemStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemStatus = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditedOrderFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditedOrderFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditedOrderCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditedOrderRelatedFinder<ParentOwnerType, ReturnType, AuditedOrderList, OwnerType>
+	{
+		public AuditedOrderCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditedOrderCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditedOrderCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedOrderCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditedOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditedOrderRelatedFinder<ParentOwnerType, ReturnType, AuditedOrderList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditedOrderSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditedOrderSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditedOrder other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedOrder findByPrimaryKey(int orderId, Timestamp processingDate)
+		{
+			AuditedOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedOrder) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedOrder findByTrackingId(String trackingId, Timestamp processingDate)
+		{
+			AuditedOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (trackingId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(trackingId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forTrackingId, processingDate, null, AuditedOrderFinder.zGetIndexbyTrackingIdRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedOrder) _related;
+			if (_related == null)
+			{
+				_op = this.trackingId().eq(trackingId).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditedOrderSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditedOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedOrderSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructAuditedOrderItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetAuditedOrderItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructAuditedOrderItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructAuditedOrderItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemsPureReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(2);
+		itemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemsReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(2);
+		itemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemsMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(2);
+		itemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(1));
+		itemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(3));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper itemsForAllTimeReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemsForAllTimeReverseMapper()
+	{
+		if (itemsForAllTimeReverseMapper == null)
+		{
+			itemsForAllTimeReverseMapper = zConstructAuditedOrderItemsForAllTimeReverseMapper();
+		}
+
+		return itemsForAllTimeReverseMapper;
+	}
+
+	private static Mapper itemsForAllTimeMapper = null;
+	public static Mapper zGetAuditedOrderItemsForAllTimeMapper()
+	{
+		if (itemsForAllTimeMapper == null)
+		{
+			itemsForAllTimeMapper = zConstructAuditedOrderItemsForAllTimeMapper();
+		}
+
+		return itemsForAllTimeMapper;
+	}
+
+	private static Mapper itemsForAllTimePureReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemsForAllTimePureReverseMapper()
+	{
+		if (itemsForAllTimePureReverseMapper == null)
+		{
+			itemsForAllTimePureReverseMapper = zConstructAuditedOrderItemsForAllTimePureReverseMapper();
+		}
+
+		return itemsForAllTimePureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemsForAllTimePureReverseMapper()
+	{
+		Mapper itemsForAllTimeMapper = AuditedOrderFinder.zGetConstantJoin(0);
+		itemsForAllTimeMapper.setName("itemsForAllTime");
+		return itemsForAllTimeMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemsForAllTimeReverseMapper()
+	{
+		Mapper itemsForAllTimeMapperInnerMapper = AuditedOrderFinder.zGetConstantJoin(0);
+		Mapper itemsForAllTimeMapper = new FilteredMapper(itemsForAllTimeMapperInnerMapper, null, AuditedOrderItemFinder.zGetConstantOperation(0));
+		itemsForAllTimeMapper.setName("itemsForAllTime");
+		return itemsForAllTimeMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemsForAllTimeMapper()
+	{
+		Mapper itemsForAllTimeMapperInnerMapper = AuditedOrderFinder.zGetConstantJoin(1);
+		Mapper itemsForAllTimeMapper = new FilteredMapper(itemsForAllTimeMapperInnerMapper, AuditedOrderItemFinder.zGetConstantOperation(0), null);
+		itemsForAllTimeMapper.setName("itemsForAllTime_Reverse");
+		return itemsForAllTimeMapper;
+	}
+
+	private static Mapper directRefitemsReverseMapper = null;
+	public static Mapper zGetAuditedOrderDirectRefitemsReverseMapper()
+	{
+		if (directRefitemsReverseMapper == null)
+		{
+			directRefitemsReverseMapper = zConstructAuditedOrderDirectRefitemsReverseMapper();
+		}
+
+		return directRefitemsReverseMapper;
+	}
+
+	private static Mapper directRefitemsMapper = null;
+	public static Mapper zGetAuditedOrderDirectRefitemsMapper()
+	{
+		if (directRefitemsMapper == null)
+		{
+			directRefitemsMapper = zConstructAuditedOrderDirectRefitemsMapper();
+		}
+
+		return directRefitemsMapper;
+	}
+
+	private static Mapper directRefitemsPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderDirectRefitemsPureReverseMapper()
+	{
+		if (directRefitemsPureReverseMapper == null)
+		{
+			directRefitemsPureReverseMapper = zConstructAuditedOrderDirectRefitemsPureReverseMapper();
+		}
+
+		return directRefitemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderDirectRefitemsPureReverseMapper()
+	{
+		InternalList directRefitemsMapperMapperList = new InternalList(2);
+		directRefitemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		directRefitemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper directRefitemsMapper = new MultiEqualityMapper(directRefitemsMapperMapperList);
+		directRefitemsMapper.setName("directRefitems");
+		return directRefitemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderDirectRefitemsReverseMapper()
+	{
+		InternalList directRefitemsMapperMapperList = new InternalList(2);
+		directRefitemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		directRefitemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper directRefitemsMapper = new MultiEqualityMapper(directRefitemsMapperMapperList);
+		directRefitemsMapper.setName("directRefitems");
+		return directRefitemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderDirectRefitemsMapper()
+	{
+		InternalList directRefitemsMapperMapperList = new InternalList(2);
+		directRefitemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(1));
+		directRefitemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(3));
+		Mapper directRefitemsMapper = new MultiEqualityMapper(directRefitemsMapperMapperList);
+		directRefitemsMapper.setName("directRefOrder");
+		return directRefitemsMapper;
+	}
+
+	private static Mapper orderStatusReverseMapper = null;
+	public static Mapper zGetAuditedOrderOrderStatusReverseMapper()
+	{
+		if (orderStatusReverseMapper == null)
+		{
+			orderStatusReverseMapper = zConstructAuditedOrderOrderStatusReverseMapper();
+		}
+
+		return orderStatusReverseMapper;
+	}
+
+	private static Mapper orderStatusMapper = null;
+	public static Mapper zGetAuditedOrderOrderStatusMapper()
+	{
+		if (orderStatusMapper == null)
+		{
+			orderStatusMapper = zConstructAuditedOrderOrderStatusMapper();
+		}
+
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderOrderStatusPureReverseMapper()
+	{
+		if (orderStatusPureReverseMapper == null)
+		{
+			orderStatusPureReverseMapper = zConstructAuditedOrderOrderStatusPureReverseMapper();
+		}
+
+		return orderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderOrderStatusPureReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(2);
+		orderStatusMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(4));
+		orderStatusMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(6));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderOrderStatusReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(2);
+		orderStatusMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(4));
+		orderStatusMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(6));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderOrderStatusMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(2);
+		orderStatusMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(5));
+		orderStatusMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(7));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("order");
+		return orderStatusMapper;
+	}
+
+	public static Mapper zGetAuditedOrderItemForProductReverseMapper(int productId)
+	{
+		return zConstructAuditedOrderItemForProductReverseMapper(productId);
+	}
+
+	public static Mapper zGetAuditedOrderItemForProductMapper(int productId)
+	{
+		return zConstructAuditedOrderItemForProductMapper(productId);
+	}
+
+	private static Mapper itemForProductPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemForProductPureReverseMapper()
+	{
+		if (itemForProductPureReverseMapper == null)
+		{
+			itemForProductPureReverseMapper = zConstructAuditedOrderItemForProductPureReverseMapper();
+		}
+
+		return itemForProductPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemForProductPureReverseMapper()
+	{
+		InternalList itemForProductMapperMapperList = new InternalList(2);
+		itemForProductMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		itemForProductMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper itemForProductMapper = new MultiEqualityMapper(itemForProductMapperMapperList);
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemForProductReverseMapper(int productId)
+	{
+		InternalList itemForProductMapperInnerMapperMapperList = new InternalList(2);
+		itemForProductMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		itemForProductMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper itemForProductMapperInnerMapper = new MultiEqualityMapper(itemForProductMapperInnerMapperMapperList);
+		Mapper itemForProductMapper = new FilteredMapper(itemForProductMapperInnerMapper, null, AuditedOrderItemFinder.productId().eq(productId));
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemForProductMapper(int productId)
+	{
+		InternalList itemForProductMapperInnerMapperMapperList = new InternalList(2);
+		itemForProductMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(1));
+		itemForProductMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(3));
+		Mapper itemForProductMapperInnerMapper = new MultiEqualityMapper(itemForProductMapperInnerMapperMapperList);
+		Mapper itemForProductMapper = new FilteredMapper(itemForProductMapperInnerMapper, AuditedOrderItemFinder.productId().eq(productId), null);
+		itemForProductMapper.setName("itemForProduct_Reverse");
+		return itemForProductMapper;
+	}
+
+	public static Mapper zGetAuditedOrderItemForProductSetReverseMapper(IntHashSet productIds)
+	{
+		return zConstructAuditedOrderItemForProductSetReverseMapper(productIds);
+	}
+
+	public static Mapper zGetAuditedOrderItemForProductSetMapper(IntHashSet productIds)
+	{
+		return zConstructAuditedOrderItemForProductSetMapper(productIds);
+	}
+
+	private static Mapper itemForProductSetPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemForProductSetPureReverseMapper()
+	{
+		if (itemForProductSetPureReverseMapper == null)
+		{
+			itemForProductSetPureReverseMapper = zConstructAuditedOrderItemForProductSetPureReverseMapper();
+		}
+
+		return itemForProductSetPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemForProductSetPureReverseMapper()
+	{
+		InternalList itemForProductSetMapperMapperList = new InternalList(2);
+		itemForProductSetMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		itemForProductSetMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper itemForProductSetMapper = new MultiEqualityMapper(itemForProductSetMapperMapperList);
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemForProductSetReverseMapper(IntHashSet productIds)
+	{
+		InternalList itemForProductSetMapperInnerMapperMapperList = new InternalList(2);
+		itemForProductSetMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		itemForProductSetMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper itemForProductSetMapperInnerMapper = new MultiEqualityMapper(itemForProductSetMapperInnerMapperMapperList);
+		Mapper itemForProductSetMapper = new FilteredMapper(itemForProductSetMapperInnerMapper, null, AuditedOrderItemFinder.productId().in(productIds));
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemForProductSetMapper(IntHashSet productIds)
+	{
+		InternalList itemForProductSetMapperInnerMapperMapperList = new InternalList(2);
+		itemForProductSetMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(1));
+		itemForProductSetMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(3));
+		Mapper itemForProductSetMapperInnerMapper = new MultiEqualityMapper(itemForProductSetMapperInnerMapperMapperList);
+		Mapper itemForProductSetMapper = new FilteredMapper(itemForProductSetMapperInnerMapper, AuditedOrderItemFinder.productId().in(productIds), null);
+		itemForProductSetMapper.setName("itemForProductSet_Reverse");
+		return itemForProductSetMapper;
+	}
+
+	public static Mapper zGetAuditedOrderExpensiveItemsReverseMapper(double price)
+	{
+		return zConstructAuditedOrderExpensiveItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetAuditedOrderExpensiveItemsMapper(double price)
+	{
+		return zConstructAuditedOrderExpensiveItemsMapper(price);
+	}
+
+	private static Mapper expensiveItemsPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderExpensiveItemsPureReverseMapper()
+	{
+		if (expensiveItemsPureReverseMapper == null)
+		{
+			expensiveItemsPureReverseMapper = zConstructAuditedOrderExpensiveItemsPureReverseMapper();
+		}
+
+		return expensiveItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderExpensiveItemsPureReverseMapper()
+	{
+		InternalList expensiveItemsMapperMapperList = new InternalList(2);
+		expensiveItemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		expensiveItemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper expensiveItemsMapper = new MultiEqualityMapper(expensiveItemsMapperMapperList);
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderExpensiveItemsReverseMapper(double price)
+	{
+		InternalList expensiveItemsMapperInnerMapperMapperList = new InternalList(2);
+		expensiveItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		expensiveItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper expensiveItemsMapperInnerMapper = new MultiEqualityMapper(expensiveItemsMapperInnerMapperMapperList);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, null, AuditedOrderItemFinder.originalPrice().greaterThanEquals(price));
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderExpensiveItemsMapper(double price)
+	{
+		InternalList expensiveItemsMapperInnerMapperMapperList = new InternalList(2);
+		expensiveItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(1));
+		expensiveItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(3));
+		Mapper expensiveItemsMapperInnerMapper = new MultiEqualityMapper(expensiveItemsMapperInnerMapperMapperList);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, AuditedOrderItemFinder.originalPrice().greaterThanEquals(price), null);
+		expensiveItemsMapper.setName("expensiveItems_Reverse");
+		return expensiveItemsMapper;
+	}
+
+	public static Mapper zGetAuditedOrderCheapItemsReverseMapper(double price)
+	{
+		return zConstructAuditedOrderCheapItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetAuditedOrderCheapItemsMapper(double price)
+	{
+		return zConstructAuditedOrderCheapItemsMapper(price);
+	}
+
+	private static Mapper cheapItemsPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderCheapItemsPureReverseMapper()
+	{
+		if (cheapItemsPureReverseMapper == null)
+		{
+			cheapItemsPureReverseMapper = zConstructAuditedOrderCheapItemsPureReverseMapper();
+		}
+
+		return cheapItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderCheapItemsPureReverseMapper()
+	{
+		InternalList cheapItemsMapperMapperList = new InternalList(2);
+		cheapItemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		cheapItemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper cheapItemsMapper = new MultiEqualityMapper(cheapItemsMapperMapperList);
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderCheapItemsReverseMapper(double price)
+	{
+		InternalList cheapItemsMapperInnerMapperMapperList = new InternalList(2);
+		cheapItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		cheapItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper cheapItemsMapperInnerMapper = new MultiEqualityMapper(cheapItemsMapperInnerMapperMapperList);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, null, AuditedOrderItemFinder.originalPrice().lessThan(price));
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderCheapItemsMapper(double price)
+	{
+		InternalList cheapItemsMapperInnerMapperMapperList = new InternalList(2);
+		cheapItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(1));
+		cheapItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(3));
+		Mapper cheapItemsMapperInnerMapper = new MultiEqualityMapper(cheapItemsMapperInnerMapperMapperList);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, AuditedOrderItemFinder.originalPrice().lessThan(price), null);
+		cheapItemsMapper.setName("cheapItems_Reverse");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper leftNullFilteredItemsReverseMapper = null;
+	public static Mapper zGetAuditedOrderLeftNullFilteredItemsReverseMapper()
+	{
+		if (leftNullFilteredItemsReverseMapper == null)
+		{
+			leftNullFilteredItemsReverseMapper = zConstructAuditedOrderLeftNullFilteredItemsReverseMapper();
+		}
+
+		return leftNullFilteredItemsReverseMapper;
+	}
+
+	private static Mapper leftNullFilteredItemsMapper = null;
+	public static Mapper zGetAuditedOrderLeftNullFilteredItemsMapper()
+	{
+		if (leftNullFilteredItemsMapper == null)
+		{
+			leftNullFilteredItemsMapper = zConstructAuditedOrderLeftNullFilteredItemsMapper();
+		}
+
+		return leftNullFilteredItemsMapper;
+	}
+
+	private static Mapper leftNullFilteredItemsPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderLeftNullFilteredItemsPureReverseMapper()
+	{
+		if (leftNullFilteredItemsPureReverseMapper == null)
+		{
+			leftNullFilteredItemsPureReverseMapper = zConstructAuditedOrderLeftNullFilteredItemsPureReverseMapper();
+		}
+
+		return leftNullFilteredItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderLeftNullFilteredItemsPureReverseMapper()
+	{
+		InternalList leftNullFilteredItemsMapperMapperList = new InternalList(2);
+		leftNullFilteredItemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		leftNullFilteredItemsMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper leftNullFilteredItemsMapper = new MultiEqualityMapper(leftNullFilteredItemsMapperMapperList);
+		leftNullFilteredItemsMapper.setName("leftNullFilteredItems");
+		return leftNullFilteredItemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderLeftNullFilteredItemsReverseMapper()
+	{
+		InternalList leftNullFilteredItemsMapperInnerMapperMapperList = new InternalList(2);
+		leftNullFilteredItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		leftNullFilteredItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper leftNullFilteredItemsMapperInnerMapper = new MultiEqualityMapper(leftNullFilteredItemsMapperInnerMapperMapperList);
+		Mapper leftNullFilteredItemsMapper = new FilteredMapper(leftNullFilteredItemsMapperInnerMapper, AuditedOrderFinder.zGetConstantOperation(0), null);
+		leftNullFilteredItemsMapper.setName("leftNullFilteredItems");
+		return leftNullFilteredItemsMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderLeftNullFilteredItemsMapper()
+	{
+		InternalList leftNullFilteredItemsMapperInnerMapperMapperList = new InternalList(2);
+		leftNullFilteredItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(1));
+		leftNullFilteredItemsMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(3));
+		Mapper leftNullFilteredItemsMapperInnerMapper = new MultiEqualityMapper(leftNullFilteredItemsMapperInnerMapperMapperList);
+		Mapper leftNullFilteredItemsMapper = new FilteredMapper(leftNullFilteredItemsMapperInnerMapper, null, AuditedOrderFinder.zGetConstantOperation(0));
+		leftNullFilteredItemsMapper.setName("leftNullFilteredItems_Reverse");
+		return leftNullFilteredItemsMapper;
+	}
+
+	private static Mapper leftNullFilteredStatusReverseMapper = null;
+	public static Mapper zGetAuditedOrderLeftNullFilteredStatusReverseMapper()
+	{
+		if (leftNullFilteredStatusReverseMapper == null)
+		{
+			leftNullFilteredStatusReverseMapper = zConstructAuditedOrderLeftNullFilteredStatusReverseMapper();
+		}
+
+		return leftNullFilteredStatusReverseMapper;
+	}
+
+	private static Mapper leftNullFilteredStatusMapper = null;
+	public static Mapper zGetAuditedOrderLeftNullFilteredStatusMapper()
+	{
+		if (leftNullFilteredStatusMapper == null)
+		{
+			leftNullFilteredStatusMapper = zConstructAuditedOrderLeftNullFilteredStatusMapper();
+		}
+
+		return leftNullFilteredStatusMapper;
+	}
+
+	private static Mapper leftNullFilteredStatusPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderLeftNullFilteredStatusPureReverseMapper()
+	{
+		if (leftNullFilteredStatusPureReverseMapper == null)
+		{
+			leftNullFilteredStatusPureReverseMapper = zConstructAuditedOrderLeftNullFilteredStatusPureReverseMapper();
+		}
+
+		return leftNullFilteredStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderLeftNullFilteredStatusPureReverseMapper()
+	{
+		InternalList leftNullFilteredStatusMapperMapperList = new InternalList(2);
+		leftNullFilteredStatusMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(4));
+		leftNullFilteredStatusMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(6));
+		Mapper leftNullFilteredStatusMapper = new MultiEqualityMapper(leftNullFilteredStatusMapperMapperList);
+		leftNullFilteredStatusMapper.setName("leftNullFilteredStatus");
+		return leftNullFilteredStatusMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderLeftNullFilteredStatusReverseMapper()
+	{
+		InternalList leftNullFilteredStatusMapperInnerMapperMapperList = new InternalList(2);
+		leftNullFilteredStatusMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(4));
+		leftNullFilteredStatusMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(6));
+		Mapper leftNullFilteredStatusMapperInnerMapper = new MultiEqualityMapper(leftNullFilteredStatusMapperInnerMapperMapperList);
+		Mapper leftNullFilteredStatusMapper = new FilteredMapper(leftNullFilteredStatusMapperInnerMapper, AuditedOrderFinder.zGetConstantOperation(0), null);
+		leftNullFilteredStatusMapper.setName("leftNullFilteredStatus");
+		return leftNullFilteredStatusMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderLeftNullFilteredStatusMapper()
+	{
+		InternalList leftNullFilteredStatusMapperInnerMapperMapperList = new InternalList(2);
+		leftNullFilteredStatusMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(5));
+		leftNullFilteredStatusMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(7));
+		Mapper leftNullFilteredStatusMapperInnerMapper = new MultiEqualityMapper(leftNullFilteredStatusMapperInnerMapperMapperList);
+		Mapper leftNullFilteredStatusMapper = new FilteredMapper(leftNullFilteredStatusMapperInnerMapper, null, AuditedOrderFinder.zGetConstantOperation(0));
+		leftNullFilteredStatusMapper.setName("leftNullFilteredStatus_Reverse");
+		return leftNullFilteredStatusMapper;
+	}
+
+	private static Mapper orderStatus2ReverseMapper = null;
+	public static Mapper zGetAuditedOrderOrderStatus2ReverseMapper()
+	{
+		if (orderStatus2ReverseMapper == null)
+		{
+			orderStatus2ReverseMapper = zConstructAuditedOrderOrderStatus2ReverseMapper();
+		}
+
+		return orderStatus2ReverseMapper;
+	}
+
+	private static Mapper orderStatus2Mapper = null;
+	public static Mapper zGetAuditedOrderOrderStatus2Mapper()
+	{
+		if (orderStatus2Mapper == null)
+		{
+			orderStatus2Mapper = zConstructAuditedOrderOrderStatus2Mapper();
+		}
+
+		return orderStatus2Mapper;
+	}
+
+	private static Mapper orderStatus2PureReverseMapper = null;
+	public static Mapper zGetAuditedOrderOrderStatus2PureReverseMapper()
+	{
+		if (orderStatus2PureReverseMapper == null)
+		{
+			orderStatus2PureReverseMapper = zConstructAuditedOrderOrderStatus2PureReverseMapper();
+		}
+
+		return orderStatus2PureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderOrderStatus2PureReverseMapper()
+	{
+		InternalList orderStatus2MapperMapperList = new InternalList(2);
+		orderStatus2MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(8));
+		orderStatus2MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatus2Mapper = new MultiEqualityMapper(orderStatus2MapperMapperList);
+		orderStatus2Mapper.setName("orderStatus2");
+		return orderStatus2Mapper;
+	}
+
+	private static Mapper zConstructAuditedOrderOrderStatus2ReverseMapper()
+	{
+		InternalList orderStatus2MapperMapperList = new InternalList(2);
+		orderStatus2MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(8));
+		orderStatus2MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatus2Mapper = new MultiEqualityMapper(orderStatus2MapperMapperList);
+		orderStatus2Mapper.setName("orderStatus2");
+		return orderStatus2Mapper;
+	}
+
+	private static Mapper zConstructAuditedOrderOrderStatus2Mapper()
+	{
+		InternalList orderStatus2MapperMapperList = new InternalList(2);
+		orderStatus2MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(9));
+		orderStatus2MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(11));
+		Mapper orderStatus2Mapper = new MultiEqualityMapper(orderStatus2MapperMapperList);
+		orderStatus2Mapper.setName("order");
+		return orderStatus2Mapper;
+	}
+
+	public static Mapper zGetAuditedOrderBitemporalOrderReverseMapper(Timestamp businessDate)
+	{
+		return zConstructAuditedOrderBitemporalOrderReverseMapper(businessDate);
+	}
+
+	public static Mapper zGetAuditedOrderBitemporalOrderMapper(Timestamp businessDate)
+	{
+		return zConstructAuditedOrderBitemporalOrderMapper(businessDate);
+	}
+
+	private static Mapper bitemporalOrderPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderBitemporalOrderPureReverseMapper()
+	{
+		if (bitemporalOrderPureReverseMapper == null)
+		{
+			bitemporalOrderPureReverseMapper = zConstructAuditedOrderBitemporalOrderPureReverseMapper();
+		}
+
+		return bitemporalOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderBitemporalOrderPureReverseMapper()
+	{
+		InternalList bitemporalOrderMapperMapperList = new InternalList(2);
+		bitemporalOrderMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(12));
+		bitemporalOrderMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(14));
+		Mapper bitemporalOrderMapper = new MultiEqualityMapper(bitemporalOrderMapperMapperList);
+		bitemporalOrderMapper.setName("bitemporalOrder");
+		return bitemporalOrderMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderBitemporalOrderReverseMapper(Timestamp businessDate)
+	{
+		InternalList bitemporalOrderMapperInnerMapperMapperList = new InternalList(2);
+		bitemporalOrderMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(12));
+		bitemporalOrderMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(14));
+		Mapper bitemporalOrderMapperInnerMapper = new MultiEqualityMapper(bitemporalOrderMapperInnerMapperMapperList);
+		Mapper bitemporalOrderMapper = new FilteredMapper(bitemporalOrderMapperInnerMapper, null, BitemporalOrderFinder.businessDate().eq(businessDate));
+		bitemporalOrderMapper.setName("bitemporalOrder");
+		return bitemporalOrderMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderBitemporalOrderMapper(Timestamp businessDate)
+	{
+		InternalList bitemporalOrderMapperInnerMapperMapperList = new InternalList(2);
+		bitemporalOrderMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(13));
+		bitemporalOrderMapperInnerMapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(15));
+		Mapper bitemporalOrderMapperInnerMapper = new MultiEqualityMapper(bitemporalOrderMapperInnerMapperMapperList);
+		Mapper bitemporalOrderMapper = new FilteredMapper(bitemporalOrderMapperInnerMapper, BitemporalOrderFinder.businessDate().eq(businessDate), null);
+		bitemporalOrderMapper.setName("bitemporalOrder_Reverse");
+		return bitemporalOrderMapper;
+	}
+
+	private static Mapper itemStatusReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemStatusReverseMapper()
+	{
+		if (itemStatusReverseMapper == null)
+		{
+			itemStatusReverseMapper = zConstructAuditedOrderItemStatusReverseMapper();
+		}
+
+		return itemStatusReverseMapper;
+	}
+
+	private static Mapper itemStatusMapper = null;
+	public static Mapper zGetAuditedOrderItemStatusMapper()
+	{
+		if (itemStatusMapper == null)
+		{
+			itemStatusMapper = zConstructAuditedOrderItemStatusMapper();
+		}
+
+		return itemStatusMapper;
+	}
+
+	private static Mapper itemStatusPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemStatusPureReverseMapper()
+	{
+		if (itemStatusPureReverseMapper == null)
+		{
+			itemStatusPureReverseMapper = zConstructAuditedOrderItemStatusPureReverseMapper();
+		}
+
+		return itemStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemStatusPureReverseMapper()
+	{
+		InternalList itemStatusc0MapperMapperList = new InternalList(2);
+		itemStatusc0MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		itemStatusc0MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper itemStatusc0Mapper = new MultiEqualityMapper(itemStatusc0MapperMapperList);
+		InternalList itemStatusc1MapperMapperList = new InternalList(2);
+		itemStatusc1MapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(0));
+		itemStatusc1MapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(2));
+		Mapper itemStatusc1Mapper = new MultiEqualityMapper(itemStatusc1MapperMapperList);
+		Mapper itemStatusMapper = new ChainedMapper(itemStatusc0Mapper,itemStatusc1Mapper);
+		itemStatusMapper.setName("itemStatus");
+		return itemStatusMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemStatusReverseMapper()
+	{
+		InternalList itemStatusc0MapperMapperList = new InternalList(2);
+		itemStatusc0MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(0));
+		itemStatusc0MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(2));
+		Mapper itemStatusc0Mapper = new MultiEqualityMapper(itemStatusc0MapperMapperList);
+		InternalList itemStatusc1MapperMapperList = new InternalList(2);
+		itemStatusc1MapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(0));
+		itemStatusc1MapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(2));
+		Mapper itemStatusc1Mapper = new MultiEqualityMapper(itemStatusc1MapperMapperList);
+		Mapper itemStatusMapper = new ChainedMapper(itemStatusc0Mapper,itemStatusc1Mapper);
+		itemStatusMapper.setName("itemStatus");
+		return itemStatusMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemStatusMapper()
+	{
+		InternalList itemStatusc0MapperMapperList = new InternalList(2);
+		itemStatusc0MapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(1));
+		itemStatusc0MapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(3));
+		Mapper itemStatusc0Mapper = new MultiEqualityMapper(itemStatusc0MapperMapperList);
+		InternalList itemStatusc1MapperMapperList = new InternalList(2);
+		itemStatusc1MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(1));
+		itemStatusc1MapperMapperList.add(AuditedOrderFinder.zGetConstantJoin(3));
+		Mapper itemStatusc1Mapper = new MultiEqualityMapper(itemStatusc1MapperMapperList);
+		Mapper itemStatusMapper = new ChainedMapper(itemStatusc0Mapper,itemStatusc1Mapper);
+		itemStatusMapper.setName("itemStatus_Reverse");
+		return itemStatusMapper;
+	}
+
+	private static Mapper itemStatusMapperFragment = null;
+	public static Mapper zGetItemStatusMapperFragment()
+	{
+		if (itemStatusMapperFragment == null)
+		{
+			itemStatusMapperFragment = zConstructItemStatusMapperFragment();
+		}
+
+		return itemStatusMapperFragment;
+	}
+
+	private static Mapper zConstructItemStatusMapperFragment()
+	{
+		InternalList itemStatusMapperMapperList = new InternalList(2);
+		itemStatusMapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(1));
+		itemStatusMapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(3));
+		return new MultiEqualityMapper(itemStatusMapperMapperList);
+	}
+
+	/** maps to AUDITED_ORDER.ORDER_ID **/
+	public static IntegerAttribute<AuditedOrder> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to AUDITED_ORDER.ORDER_DATE **/
+	public static TimestampAttribute<AuditedOrder> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to AUDITED_ORDER.USER_ID **/
+	public static IntegerAttribute<AuditedOrder> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to AUDITED_ORDER.DESCRIPTION **/
+	public static StringAttribute<AuditedOrder> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to AUDITED_ORDER."STATE" **/
+	public static StringAttribute<AuditedOrder> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to AUDITED_ORDER.TRACKING_ID **/
+	public static StringAttribute<AuditedOrder> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	/** maps to AUDITED_ORDER.IN_Z **/
+	public static TimestampAttribute<AuditedOrder> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDITED_ORDER.OUT_Z **/
+	public static TimestampAttribute<AuditedOrder> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<AuditedOrder> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<AuditedOrder, AuditedOrderItemList, AuditedOrder> items()
+	{
+		return finder.items();
+	}
+
+	public static class AuditedOrderItemsFinderSubclass<ParentOwnerType> extends AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder>
+	{
+		public AuditedOrderItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderItemFinder.orderId(),
+				AuditedOrderItemFinder.processingDate()).withExtractors(
+				AuditedOrderFinder.orderId(),
+				AuditedOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((AuditedOrder) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected AuditedOrderItemList plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected AuditedOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getItems();
+		}
+	}
+
+	public static AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<AuditedOrder, AuditedOrderItemList, AuditedOrder> itemsForAllTime()
+	{
+		return finder.itemsForAllTime();
+	}
+
+	public static class AuditedOrderItemsForAllTimeFinderSubclass<ParentOwnerType> extends AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder>
+	{
+		public AuditedOrderItemsForAllTimeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsForAllTime";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemsForAllTimeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedOrderItemList plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getItemsForAllTime();
+		}
+
+		protected AuditedOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getItemsForAllTime();
+		}
+	}
+
+	public static AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<AuditedOrder, AuditedOrderItemList, AuditedOrder> directRefitems()
+	{
+		return finder.directRefitems();
+	}
+
+	public static class AuditedOrderDirectRefitemsFinderSubclass<ParentOwnerType> extends AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder>
+	{
+		public AuditedOrderDirectRefitemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "directRefitems";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderItemFinder.orderId(),
+				AuditedOrderItemFinder.processingDate()).withExtractors(
+				AuditedOrderFinder.orderId(),
+				AuditedOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderDirectRefitemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedOrderItemList plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getDirectRefitems();
+		}
+
+		protected AuditedOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getDirectRefitems();
+		}
+	}
+
+	public static AuditedOrderStatusFinder.AuditedOrderStatusSingleFinderForRelatedClasses<AuditedOrder, AuditedOrderStatus, AuditedOrder> orderStatus()
+	{
+		return finder.orderStatus();
+	}
+
+	public static class AuditedOrderOrderStatusFinderSubclass<ParentOwnerType> extends AuditedOrderStatusFinder.AuditedOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderStatus, AuditedOrder>
+	{
+		public AuditedOrderOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderStatusFinder.orderId(),
+				AuditedOrderStatusFinder.processingDate()).withExtractors(
+				AuditedOrderFinder.orderId(),
+				AuditedOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((AuditedOrder) _obj).isOrderStatusModifiedSinceDetachment();
+		}
+
+		protected AuditedOrderStatus plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getOrderStatus();
+		}
+
+		protected AuditedOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getOrderStatus();
+		}
+	}
+
+	public static AuditedOrderItemFinder.AuditedOrderItemSingleFinderForRelatedClasses<AuditedOrder, AuditedOrderItem, AuditedOrder> itemForProduct(int productId)
+	{
+		return finder.itemForProduct(productId);
+	}
+
+	public static class AuditedOrderItemForProductFinderSubclass<ParentOwnerType> extends AuditedOrderItemFinder.AuditedOrderItemSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderItem, AuditedOrder>
+	{
+		private int productId;
+		public AuditedOrderItemForProductFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int productId)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productId = productId;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "itemForProduct";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemForProductFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productId
+			);
+		}
+
+		protected AuditedOrderItem plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getItemForProduct(productId);
+		}
+
+		protected AuditedOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getItemForProducts(productId);
+		}
+	}
+
+	public static AuditedOrderItemFinder.AuditedOrderItemSingleFinderForRelatedClasses<AuditedOrder, AuditedOrderItem, AuditedOrder> itemForProductSet(IntHashSet productIds)
+	{
+		return finder.itemForProductSet(productIds);
+	}
+
+	public static class AuditedOrderItemForProductSetFinderSubclass<ParentOwnerType> extends AuditedOrderItemFinder.AuditedOrderItemSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderItem, AuditedOrder>
+	{
+		private IntHashSet productIds;
+		public AuditedOrderItemForProductSetFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , IntHashSet productIds)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productIds = productIds;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "itemForProductSet";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemForProductSetFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productIds
+			);
+		}
+
+		protected AuditedOrderItem plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getItemForProductSet(productIds);
+		}
+
+		protected AuditedOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getItemForProductSets(productIds);
+		}
+	}
+
+	public static AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<AuditedOrder, AuditedOrderItemList, AuditedOrder> expensiveItems(double price)
+	{
+		return finder.expensiveItems(price);
+	}
+
+	public static class AuditedOrderExpensiveItemsFinderSubclass<ParentOwnerType> extends AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder>
+	{
+		private double price;
+		public AuditedOrderExpensiveItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "expensiveItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderExpensiveItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected AuditedOrderItemList plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getExpensiveItems(price);
+		}
+
+		protected AuditedOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getExpensiveItems(price);
+		}
+	}
+
+	public static AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<AuditedOrder, List, AuditedOrder> cheapItems(double price)
+	{
+		return finder.cheapItems(price);
+	}
+
+	public static class AuditedOrderCheapItemsFinderSubclass<ParentOwnerType> extends AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, AuditedOrder>
+	{
+		private double price;
+		public AuditedOrderCheapItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderCheapItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected List plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getCheapItems(price);
+		}
+
+		protected AuditedOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getCheapItems(price);
+		}
+	}
+
+	public static AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<AuditedOrder, AuditedOrderItemList, AuditedOrder> leftNullFilteredItems()
+	{
+		return finder.leftNullFilteredItems();
+	}
+
+	public static class AuditedOrderLeftNullFilteredItemsFinderSubclass<ParentOwnerType> extends AuditedOrderItemFinder.AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemList, AuditedOrder>
+	{
+		public AuditedOrderLeftNullFilteredItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "leftNullFilteredItems";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderItemFinder.orderId(),
+				AuditedOrderItemFinder.processingDate()).withExtractors(
+				AuditedOrderFinder.orderId(),
+				AuditedOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderLeftNullFilteredItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedOrderItemList plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getLeftNullFilteredItems();
+		}
+
+		protected AuditedOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getLeftNullFilteredItems();
+		}
+	}
+
+	public static AuditedOrderStatusFinder.AuditedOrderStatusSingleFinderForRelatedClasses<AuditedOrder, AuditedOrderStatus, AuditedOrder> leftNullFilteredStatus()
+	{
+		return finder.leftNullFilteredStatus();
+	}
+
+	public static class AuditedOrderLeftNullFilteredStatusFinderSubclass<ParentOwnerType> extends AuditedOrderStatusFinder.AuditedOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderStatus, AuditedOrder>
+	{
+		public AuditedOrderLeftNullFilteredStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "leftNullFilteredStatus";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderStatusFinder.orderId(),
+				AuditedOrderStatusFinder.processingDate()).withExtractors(
+				AuditedOrderFinder.orderId(),
+				AuditedOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderLeftNullFilteredStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedOrderStatus plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getLeftNullFilteredStatus();
+		}
+
+		protected AuditedOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getLeftNullFilteredStatus();
+		}
+	}
+
+	public static AuditedOrderStatusTwoFinder.AuditedOrderStatusTwoSingleFinderForRelatedClasses<AuditedOrder, AuditedOrderStatusTwo, AuditedOrder> orderStatus2()
+	{
+		return finder.orderStatus2();
+	}
+
+	public static class AuditedOrderOrderStatus2FinderSubclass<ParentOwnerType> extends AuditedOrderStatusTwoFinder.AuditedOrderStatusTwoSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderStatusTwo, AuditedOrder>
+	{
+		public AuditedOrderOrderStatus2FinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus2";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderStatusTwoFinder.orderId(),
+				AuditedOrderStatusTwoFinder.processingDate()).withExtractors(
+				AuditedOrderFinder.orderId(),
+				AuditedOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderOrderStatus2FinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((AuditedOrder) _obj).isOrderStatus2ModifiedSinceDetachment();
+		}
+
+		protected AuditedOrderStatusTwo plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getOrderStatus2();
+		}
+
+		protected AuditedOrderStatusTwoList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getOrderStatus2s();
+		}
+	}
+
+	public static BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<AuditedOrder, BitemporalOrder, AuditedOrder> bitemporalOrder(Timestamp businessDate)
+	{
+		return finder.bitemporalOrder(businessDate);
+	}
+
+	public static class AuditedOrderBitemporalOrderFinderSubclass<ParentOwnerType> extends BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrder, AuditedOrder>
+	{
+		private Timestamp businessDate;
+		public AuditedOrderBitemporalOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp businessDate)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.businessDate = businessDate;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "bitemporalOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderBitemporalOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.businessDate
+			);
+		}
+
+		protected BitemporalOrder plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getBitemporalOrder(businessDate);
+		}
+
+		protected BitemporalOrderList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getBitemporalOrders(businessDate);
+		}
+	}
+
+	public static AuditedOrderItemStatusFinder.AuditedOrderItemStatusCollectionFinderForRelatedClasses<AuditedOrder, AuditedOrderItemStatusList, AuditedOrder> itemStatus()
+	{
+		return finder.itemStatus();
+	}
+
+	public static class AuditedOrderItemStatusFinderSubclass<ParentOwnerType> extends AuditedOrderItemStatusFinder.AuditedOrderItemStatusCollectionFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemStatusList, AuditedOrder>
+	{
+		public AuditedOrderItemStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "itemStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedOrderItemStatusList plainValueOf(AuditedOrder _obj)
+		{
+			return _obj.getItemStatus();
+		}
+
+		protected AuditedOrderItemStatusList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderList)_obj).getItemStatus();
+		}
+	}
+
+	public static Operation eq(AuditedOrder other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static AuditedOrderSingleFinder<AuditedOrder, Object, AuditedOrder> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("byUserId", new Attribute[] 
+		{
+			userId()
+		}
+
+		);
+		cache.addIndex("byState", new Attribute[] 
+		{
+			state()
+		}
+
+		);
+		INDEX_byTrackingId = cache.addUniqueIndex("byTrackingId", new Attribute[] 
+		{
+			trackingId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyTrackingIdRef() 
+	{
+		return INDEX_byTrackingId; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedOrder");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,1422 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AuditedOrderItemData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 68;
+	boolean isDiscountPriceNull();
+	double getDiscountPrice();
+	void setDiscountPrice(double value);
+	void setDiscountPriceNull();
+	boolean isIdNull();
+	int getId();
+	void setId(int value);
+	void setIdNull();
+	boolean isManufacturerIdNull();
+	int getManufacturerId();
+	void setManufacturerId(int value);
+	void setManufacturerIdNull();
+	boolean isOrderIdNull();
+	int getOrderId();
+	void setOrderId(int value);
+	void setOrderIdNull();
+	boolean isOriginalPriceNull();
+	double getOriginalPrice();
+	void setOriginalPrice(double value);
+	void setOriginalPriceNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isProductIdNull();
+	int getProductId();
+	void setProductId(int value);
+	void setProductIdNull();
+	boolean isQuantityNull();
+	double getQuantity();
+	void setQuantity(double value);
+	void setQuantityNull();
+	boolean isStateNull();
+	String getState();
+	void setState(String value);
+	void setStateNull();
+	int zGetStateAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getProductInfo();
+	void setProductInfo(Object related);
+	Object getAuditedOrderItemStatus();
+	void setAuditedOrderItemStatus(Object related);
+	Object getManufacturer();
+	void setManufacturer(Object related);
+	Object getOrder();
+	void setOrder(Object related);
+	Object getDirectRefOrder();
+	void setDirectRefOrder(Object related);
+	public class AuditedOrderItemDataOnHeap implements AuditedOrderItemData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private double discountPrice;
+		private int id;
+		private int manufacturerId;
+		private int orderId;
+		private double originalPrice;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int productId;
+		private double quantity;
+		private String state;
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStateNull()
+		{
+			return this.getState() == null;
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isProductIdNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public boolean isQuantityNull()
+		{
+			return (isNullBits0 & 1 << 2) != 0 ;
+		}
+
+		public boolean isOriginalPriceNull()
+		{
+			return (isNullBits0 & 1 << 3) != 0 ;
+		}
+
+		public boolean isDiscountPriceNull()
+		{
+			return (isNullBits0 & 1 << 4) != 0 ;
+		}
+
+		public boolean isManufacturerIdNull()
+		{
+			return (isNullBits0 & 1 << 5) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeDouble(this.discountPrice);
+			out.writeInt(this.id);
+			out.writeInt(this.manufacturerId);
+			out.writeInt(this.orderId);
+			out.writeDouble(this.originalPrice);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderItemFinder.processingDate().getInfinityDate());
+			out.writeInt(this.productId);
+			out.writeDouble(this.quantity);
+			out.writeObject(this.state);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public double getDiscountPrice()
+		{
+			return this.discountPrice;
+		}
+
+		public void setDiscountPrice(double value)
+		{
+			this.discountPrice = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+		}
+
+		public int getId()
+		{
+			return this.id;
+		}
+
+		public void setId(int value)
+		{
+			this.id = value;
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getManufacturerId()
+		{
+			return this.manufacturerId;
+		}
+
+		public void setManufacturerId(int value)
+		{
+			this.manufacturerId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+		}
+
+		public int getOrderId()
+		{
+			return this.orderId;
+		}
+
+		public void setOrderId(int value)
+		{
+			this.orderId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public double getOriginalPrice()
+		{
+			return this.originalPrice;
+		}
+
+		public void setOriginalPrice(double value)
+		{
+			this.originalPrice = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderItemFinder.isFullCache(), AuditedOrderItemFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderItemFinder.isFullCache(), AuditedOrderItemFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProductId()
+		{
+			return this.productId;
+		}
+
+		public void setProductId(int value)
+		{
+			this.productId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public double getQuantity()
+		{
+			return this.quantity;
+		}
+
+		public void setQuantity(double value)
+		{
+			this.quantity = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+		}
+
+		public String getState()
+		{
+			return this.state;
+		}
+
+		public int zGetStateAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+		}
+
+		public void setState(String value)
+		{
+			this.state = StringPool.getInstance().getOrAddToCache(value, AuditedOrderItemFinder.isFullCache());
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public void setOrderIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setProductIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public void setQuantityNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+		}
+
+		public void setOriginalPriceNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+		}
+
+		public void setDiscountPriceNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+		}
+
+		public void setManufacturerIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(AuditedOrderItemDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.discountPrice = this.discountPrice;
+			copy.id = this.id;
+			copy.manufacturerId = this.manufacturerId;
+			copy.orderId = this.orderId;
+			copy.originalPrice = this.originalPrice;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.productId = this.productId;
+			copy.quantity = this.quantity;
+			copy.state = this.state;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[5];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.discountPrice = in.readDouble();
+			this.id = in.readInt();
+			this.manufacturerId = in.readInt();
+			this.orderId = in.readInt();
+			this.originalPrice = in.readDouble();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderItemFinder.isFullCache(), AuditedOrderItemFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderItemFinder.processingDate().getInfinityDate()), AuditedOrderItemFinder.isFullCache(), AuditedOrderItemFinder.isOffHeap());
+			this.productId = in.readInt();
+			this.quantity = in.readDouble();
+			this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedOrderItemFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final AuditedOrderItemData otherData = (AuditedOrderItemData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.id);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderItemFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.id = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderItemFinder.isFullCache(), AuditedOrderItemFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderItemFinder.processingDate().getInfinityDate()), AuditedOrderItemFinder.isFullCache(), AuditedOrderItemFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getProductInfo()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[4];
+			}
+
+			return null;
+		}
+
+		public void setProductInfo(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[4] = related;
+		}
+
+		public Object getAuditedOrderItemStatus()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setAuditedOrderItemStatus(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getManufacturer()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[2];
+			}
+
+			return null;
+		}
+
+		public void setManufacturer(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[2] = related;
+		}
+
+		public Object getOrder()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[3];
+			}
+
+			return null;
+		}
+
+		public void setOrder(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[3] = related;
+		}
+
+		public Object getDirectRefOrder()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setDirectRefOrder(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[5];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			AuditedOrderItemDataOffHeap data = new AuditedOrderItemDataOffHeap();
+			data.setDiscountPrice(this.getDiscountPrice());
+			if (this.isDiscountPriceNull()) data.setDiscountPriceNull();
+			data.setId(this.getId());
+			data.setManufacturerId(this.getManufacturerId());
+			if (this.isManufacturerIdNull()) data.setManufacturerIdNull();
+			data.setOrderId(this.getOrderId());
+			if (this.isOrderIdNull()) data.setOrderIdNull();
+			data.setOriginalPrice(this.getOriginalPrice());
+			if (this.isOriginalPriceNull()) data.setOriginalPriceNull();
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setProductId(this.getProductId());
+			if (this.isProductIdNull()) data.setProductIdNull();
+			data.setQuantity(this.getQuantity());
+			if (this.isQuantityNull()) data.setQuantityNull();
+			data.setState(this.getState());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderItemData auditedOrderItemData = (AuditedOrderItemData) newData;
+			this.setDiscountPrice(auditedOrderItemData.getDiscountPrice());
+			if (auditedOrderItemData.isDiscountPriceNull()) this.setDiscountPriceNull();
+			this.setManufacturerId(auditedOrderItemData.getManufacturerId());
+			if (auditedOrderItemData.isManufacturerIdNull()) this.setManufacturerIdNull();
+			this.setOrderId(auditedOrderItemData.getOrderId());
+			if (auditedOrderItemData.isOrderIdNull()) this.setOrderIdNull();
+			this.setOriginalPrice(auditedOrderItemData.getOriginalPrice());
+			if (auditedOrderItemData.isOriginalPriceNull()) this.setOriginalPriceNull();
+			this.setProcessingDateFrom(auditedOrderItemData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderItemData.getProcessingDateTo());
+			this.setProductId(auditedOrderItemData.getProductId());
+			if (auditedOrderItemData.isProductIdNull()) this.setProductIdNull();
+			this.setQuantity(auditedOrderItemData.getQuantity());
+			if (auditedOrderItemData.isQuantityNull()) this.setQuantityNull();
+			this.setState(auditedOrderItemData.getState());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderItemData other = (AuditedOrderItemData) newData;
+			if ( isDiscountPriceNull() != other.isDiscountPriceNull() || Math.abs(getDiscountPrice() - other.getDiscountPrice()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isManufacturerIdNull() != other.isManufacturerIdNull() || getManufacturerId() != other.getManufacturerId())
+			{
+				return true;
+			}
+
+			if ( isOrderIdNull() != other.isOrderIdNull() || getOrderId() != other.getOrderId())
+			{
+				return true;
+			}
+
+			if ( isOriginalPriceNull() != other.isOriginalPriceNull() || Math.abs(getOriginalPrice() - other.getOriginalPrice()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isProductIdNull() != other.isProductIdNull() || getProductId() != other.getProductId())
+			{
+				return true;
+			}
+
+			if ( isQuantityNull() != other.isQuantityNull() || Math.abs(getQuantity() - other.getQuantity()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderItemDataOnHeap copy = new AuditedOrderItemDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderItemDataOnHeap copy = new AuditedOrderItemDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderItemData otherData = (AuditedOrderItemData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderItemData otherData = (AuditedOrderItemData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderItemData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderItemFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderItemFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderItemData";
+		}
+	}
+
+	public class AuditedOrderItemDataOffHeap extends MithraOffHeapDataObject implements AuditedOrderItemData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public AuditedOrderItemDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 36);
+			this.zSetTimestamp(_storage, value, 44);
+		}
+
+		public AuditedOrderItemDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isDiscountPriceNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isManufacturerIdNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return zIsNull(_storage, 4, 2);
+		}
+
+		public boolean isOriginalPriceNull()
+		{
+			return zIsNull(_storage, 4, 3);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 36);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 44);
+		}
+
+		public boolean isProductIdNull()
+		{
+			return zIsNull(_storage, 4, 4);
+		}
+
+		public boolean isQuantityNull()
+		{
+			return zIsNull(_storage, 4, 5);
+		}
+
+		public boolean isStateNull()
+		{
+			return zIsStringNull(_storage, 64);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeDouble(this.getDiscountPrice());
+			out.writeInt(this.getId());
+			out.writeInt(this.getManufacturerId());
+			out.writeInt(this.getOrderId());
+			out.writeDouble(this.getOriginalPrice());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderItemFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getProductId());
+			out.writeDouble(this.getQuantity());
+			out.writeObject(this.getState());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isOrderIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isProductIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			if (isQuantityNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+			}
+
+			if (isOriginalPriceNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+			}
+
+			if (isDiscountPriceNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+			}
+
+			if (isManufacturerIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public double getDiscountPrice()
+		{
+			return zGetDouble(_storage, 12);
+		}
+
+		public void setDiscountPrice(double value)
+		{
+			zSetDouble(_storage, value, 12, 4, 0);
+		}
+
+		public int getId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getManufacturerId()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setManufacturerId(int value)
+		{
+			zSetInteger(_storage, value, 20, 4, 1);
+		}
+
+		public int getOrderId()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setOrderId(int value)
+		{
+			zSetInteger(_storage, value, 24, 4, 2);
+		}
+
+		public double getOriginalPrice()
+		{
+			return zGetDouble(_storage, 28);
+		}
+
+		public void setOriginalPrice(double value)
+		{
+			zSetDouble(_storage, value, 28, 4, 3);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 36);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 36);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 36);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 44);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 44);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 44);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProductId()
+		{
+			return zGetInteger(_storage, 52);
+		}
+
+		public void setProductId(int value)
+		{
+			zSetInteger(_storage, value, 52, 4, 4);
+		}
+
+		public double getQuantity()
+		{
+			return zGetDouble(_storage, 56);
+		}
+
+		public void setQuantity(double value)
+		{
+			zSetDouble(_storage, value, 56, 4, 5);
+		}
+
+		public String getState()
+		{
+			return zGetString(_storage, 64);
+		}
+
+		public int zGetStateAsInt()
+		{
+			return zGetInteger(_storage, 64);
+		}
+
+		public void setState(String value)
+		{
+			zSetString(_storage, value, 64);
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public void setOrderIdNull()
+		{
+			zSetNull(_storage, 4, 2);
+		}
+
+		public void setProductIdNull()
+		{
+			zSetNull(_storage, 4, 4);
+		}
+
+		public void setQuantityNull()
+		{
+			zSetNull(_storage, 4, 5);
+		}
+
+		public void setOriginalPriceNull()
+		{
+			zSetNull(_storage, 4, 3);
+		}
+
+		public void setDiscountPriceNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public void setManufacturerIdNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(AuditedOrderItemDataOnHeap copy, boolean withRelationships)
+		{
+			copy.discountPrice = this.getDiscountPrice();
+			copy.id = this.getId();
+			copy.manufacturerId = this.getManufacturerId();
+			copy.orderId = this.getOrderId();
+			copy.originalPrice = this.getOriginalPrice();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.productId = this.getProductId();
+			copy.quantity = this.getQuantity();
+			copy.state = this.getState();
+			if (isOrderIdNull())
+			{
+				copy.setOrderIdNull();
+			}
+
+			if (isProductIdNull())
+			{
+				copy.setProductIdNull();
+			}
+
+			if (isQuantityNull())
+			{
+				copy.setQuantityNull();
+			}
+
+			if (isOriginalPriceNull())
+			{
+				copy.setOriginalPriceNull();
+			}
+
+			if (isDiscountPriceNull())
+			{
+				copy.setDiscountPriceNull();
+			}
+
+			if (isManufacturerIdNull())
+			{
+				copy.setManufacturerIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetDouble(_storage, in.readDouble(), 12, 4, 0, (isNullBits0 & 1 << 4) != 0 );
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 20, 4, 1, (isNullBits0 & 1 << 5) != 0 );
+			zSetInteger(_storage, in.readInt(), 24, 4, 2, (isNullBits0 & 1) != 0 );
+			zSetDouble(_storage, in.readDouble(), 28, 4, 3, (isNullBits0 & 1 << 3) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 44);
+			zSetInteger(_storage, in.readInt(), 52, 4, 4, (isNullBits0 & 1 << 1) != 0 );
+			zSetDouble(_storage, in.readDouble(), 56, 4, 5, (isNullBits0 & 1 << 2) != 0 );
+			zSetString(_storage, (String)in.readObject(), 64);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof AuditedOrderItemDataOffHeap)
+			{
+				final AuditedOrderItemDataOffHeap otherData = (AuditedOrderItemDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final AuditedOrderItemData otherData = (AuditedOrderItemData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderItemFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 44);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getProductInfo()
+		{
+			return null;
+		}
+
+		public void setProductInfo(Object related)
+		{
+		}
+
+		public Object getAuditedOrderItemStatus()
+		{
+			return null;
+		}
+
+		public void setAuditedOrderItemStatus(Object related)
+		{
+		}
+
+		public Object getManufacturer()
+		{
+			return null;
+		}
+
+		public void setManufacturer(Object related)
+		{
+		}
+
+		public Object getOrder()
+		{
+			return null;
+		}
+
+		public void setOrder(Object related)
+		{
+		}
+
+		public Object getDirectRefOrder()
+		{
+			return null;
+		}
+
+		public void setDirectRefOrder(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderItemData auditedOrderItemData = (AuditedOrderItemData) newData;
+			this.setDiscountPrice(auditedOrderItemData.getDiscountPrice());
+			if (auditedOrderItemData.isDiscountPriceNull()) this.setDiscountPriceNull();
+			this.setManufacturerId(auditedOrderItemData.getManufacturerId());
+			if (auditedOrderItemData.isManufacturerIdNull()) this.setManufacturerIdNull();
+			this.setOrderId(auditedOrderItemData.getOrderId());
+			if (auditedOrderItemData.isOrderIdNull()) this.setOrderIdNull();
+			this.setOriginalPrice(auditedOrderItemData.getOriginalPrice());
+			if (auditedOrderItemData.isOriginalPriceNull()) this.setOriginalPriceNull();
+			this.setProcessingDateFrom(auditedOrderItemData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderItemData.getProcessingDateTo());
+			this.setProductId(auditedOrderItemData.getProductId());
+			if (auditedOrderItemData.isProductIdNull()) this.setProductIdNull();
+			this.setQuantity(auditedOrderItemData.getQuantity());
+			if (auditedOrderItemData.isQuantityNull()) this.setQuantityNull();
+			this.setState(auditedOrderItemData.getState());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderItemData other = (AuditedOrderItemData) newData;
+			if ( isDiscountPriceNull() != other.isDiscountPriceNull() || Math.abs(getDiscountPrice() - other.getDiscountPrice()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isManufacturerIdNull() != other.isManufacturerIdNull() || getManufacturerId() != other.getManufacturerId())
+			{
+				return true;
+			}
+
+			if ( isOrderIdNull() != other.isOrderIdNull() || getOrderId() != other.getOrderId())
+			{
+				return true;
+			}
+
+			if ( isOriginalPriceNull() != other.isOriginalPriceNull() || Math.abs(getOriginalPrice() - other.getOriginalPrice()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isProductIdNull() != other.isProductIdNull() || getProductId() != other.getProductId())
+			{
+				return true;
+			}
+
+			if ( isQuantityNull() != other.isQuantityNull() || Math.abs(getQuantity() - other.getQuantity()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderItemDataOnHeap copy = new AuditedOrderItemDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderItemDataOnHeap copy = new AuditedOrderItemDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderItemData otherData = (AuditedOrderItemData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderItemData otherData = (AuditedOrderItemData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderItemData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderItemFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderItemFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderItemData";
+		}
+	}
+}
@@ -0,0 +1,490 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class AuditedOrderItemStatusAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		AuditedOrderItemStatusFinder.processingDate()
+	, AuditedOrderItemStatusFinder.zGetDoubleAttributes(),AuditedOrderItemStatusFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(AuditedOrderItemStatus.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public AuditedOrderItemStatusAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedOrderItemStatusFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AuditedOrderItemStatusData zSynchronizedGetData()
+	{
+		return (AuditedOrderItemStatusData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !AuditedOrderItemStatusFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public AuditedOrderItemStatus zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderItemStatus original = (AuditedOrderItemStatus) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			AuditedOrderItemStatusFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public AuditedOrderItemStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderItemStatusAbstract result = (AuditedOrderItemStatusAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (AuditedOrderItemStatus ) result;
+	}
+
+	public AuditedOrderItemStatus zFindOriginal()
+	{
+		AuditedOrderItemStatusData data = (AuditedOrderItemStatusData) this.currentData;
+		Operation op;
+		op = AuditedOrderItemStatusFinder.itemId().eq(data.getItemId());
+		op = op.and(AuditedOrderItemStatusFinder.processingDate().eq(this.getProcessingDate()));
+		return AuditedOrderItemStatusFinder.findOne(op);
+	}
+
+	public AuditedOrderItemStatus getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderItemStatusAbstract result = (AuditedOrderItemStatusAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (AuditedOrderItemStatus ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public AuditedOrderItemStatus copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (AuditedOrderItemStatus) behavior.updateOriginalOrInsert(this);
+	}
+
+	public AuditedOrderItemStatus copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AuditedOrderItemStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			AuditedOrderItemStatusData data = (AuditedOrderItemStatusData) this.currentData;
+			Operation op = AuditedOrderItemStatusFinder.processingDate().eq(this.processingDate);
+			op = op.and(AuditedOrderItemStatusFinder.itemId().eq(data.getItemId()));
+			return AuditedOrderItemStatusFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isItemIdNull()
+	{
+		return this.zSynchronizedGetData().isItemIdNull();
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return this.zSynchronizedGetData().isLastUpdateTimeNull();
+	}
+
+	public boolean isLastUserNull()
+	{
+		return this.zSynchronizedGetData().isLastUserNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStatusNull()
+	{
+		return this.zSynchronizedGetData().isStatusNull();
+	}
+
+	public int getItemId()
+	{
+		return this.zSynchronizedGetData().getItemId();
+	}
+
+	public void setItemId(int newValue)
+	{
+		zSetInteger(AuditedOrderItemStatusFinder.itemId(), newValue, true ,false);
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		return this.zSynchronizedGetData().getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemStatusFinder.lastUpdateTime(), newValue, false );
+	}
+
+	public String getLastUser()
+	{
+		return this.zSynchronizedGetData().getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(AuditedOrderItemStatusFinder.lastUser(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemStatusFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemStatusFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getStatus()
+	{
+		AuditedOrderItemStatusData data = this.zSynchronizedGetData();
+		if (data.isStatusNull()) MithraNullPrimitiveException.throwNew("status", data);
+		return data.getStatus();
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(AuditedOrderItemStatusFinder.status(), newValue, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, AuditedOrderItemStatusFinder.status(), false, mustCheckCurrent);
+	}
+
+	public void setStatusNull()
+	{
+		zNullify(AuditedOrderItemStatusFinder.status(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AuditedOrderItemStatusData _newData = (AuditedOrderItemStatusData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		AuditedOrderItemStatusData _newData = (AuditedOrderItemStatusData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		AuditedOrderItemStatusData _newData = (AuditedOrderItemStatusData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedOrderItemStatusFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AuditedOrderItemStatusData.AuditedOrderItemStatusDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedOrderItemStatusData data = (AuditedOrderItemStatusData) AuditedOrderItemStatusFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedOrderItemStatus has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromAuditedOrderItemStatusData( AuditedOrderItemStatusData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromAuditedOrderItemStatusData( AuditedOrderItemStatusData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) AuditedOrderItemStatusFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedOrderItemStatusFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderItemStatus getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(AuditedOrderItemStatusAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		AuditedOrderItemStatusAbstract from = (AuditedOrderItemStatusAbstract) f;
+		AuditedOrderItemStatusData newData = from.zSynchronizedGetData();
+		this.setLastUpdateTime(newData.getLastUpdateTime());
+		this.setLastUser(newData.getLastUser());
+		if (from.isStatusNull())
+		{
+			this.setStatusNull();
+		}
+		else
+		{
+			this.setStatus(newData.getStatus());
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		AuditedOrderItemStatusData newData = (AuditedOrderItemStatusData) d;
+		AuditedOrderItemStatusData data = (AuditedOrderItemStatusData) nd;
+		if (AuditedOrderItemStatusFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderItemStatusFinder.itemId(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, AuditedOrderItemStatusFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, AuditedOrderItemStatusFinder.lastUser(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderItemStatusFinder.status(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedOrderItemStatusData data = ((AuditedOrderItemStatusData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderItemStatusData data = ((AuditedOrderItemStatusData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderItemStatusData data = ((AuditedOrderItemStatusData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedOrderItemStatusFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedOrderItemStatusData localData = (AuditedOrderItemStatusData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,925 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AuditedOrderItemStatusData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 44;
+	boolean isItemIdNull();
+	int getItemId();
+	void setItemId(int value);
+	void setItemIdNull();
+	boolean isLastUpdateTimeNull();
+	Timestamp getLastUpdateTime();
+	void setLastUpdateTime(Timestamp value);
+	void setLastUpdateTimeNull();
+	long zGetLastUpdateTimeAsLong();
+	boolean isLastUserNull();
+	String getLastUser();
+	void setLastUser(String value);
+	void setLastUserNull();
+	int zGetLastUserAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isStatusNull();
+	int getStatus();
+	void setStatus(int value);
+	void setStatusNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class AuditedOrderItemStatusDataOnHeap implements AuditedOrderItemStatusData
+	{
+		private byte _dataVersion;
+		private byte isNullBits0 = 0;
+		private int itemId;
+		private Timestamp lastUpdateTime;
+		private String lastUser;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int status;
+		public boolean isItemIdNull()
+		{
+			return false;
+		}
+
+		public boolean isLastUpdateTimeNull()
+		{
+			return this.getLastUpdateTime() == null;
+		}
+
+		public boolean isLastUserNull()
+		{
+			return this.getLastUser() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStatusNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.itemId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastUpdateTime);
+			out.writeObject(this.lastUser);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderItemStatusFinder.processingDate().getInfinityDate());
+			out.writeInt(this.status);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public int getItemId()
+		{
+			return this.itemId;
+		}
+
+		public void setItemId(int value)
+		{
+			this.itemId = value;
+		}
+
+		public void setItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getLastUpdateTime()
+		{
+			return this.lastUpdateTime;
+		}
+
+		public long zGetLastUpdateTimeAsLong()
+		{
+			if (lastUpdateTime == null) return TimestampPool.OFF_HEAP_NULL;
+			return lastUpdateTime.getTime();
+		}
+
+		public void setLastUpdateTime(Timestamp value)
+		{
+			this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderItemStatusFinder.isFullCache(), AuditedOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void setLastUpdateTimeNull()
+		{
+			this.setLastUpdateTime(null);
+		}
+
+		public String getLastUser()
+		{
+			return this.lastUser;
+		}
+
+		public int zGetLastUserAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(lastUser);
+		}
+
+		public void setLastUser(String value)
+		{
+			this.lastUser = StringPool.getInstance().getOrAddToCache(value, AuditedOrderItemStatusFinder.isFullCache());
+		}
+
+		public void setLastUserNull()
+		{
+			this.setLastUser(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderItemStatusFinder.isFullCache(), AuditedOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderItemStatusFinder.isFullCache(), AuditedOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getStatus()
+		{
+			return this.status;
+		}
+
+		public void setStatus(int value)
+		{
+			this.status = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setStatusNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(AuditedOrderItemStatusDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.itemId = this.itemId;
+			copy.lastUpdateTime = this.lastUpdateTime;
+			copy.lastUser = this.lastUser;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.status = this.status;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.itemId = in.readInt();
+			this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderItemStatusFinder.isFullCache(), AuditedOrderItemStatusFinder.isOffHeap());
+			this.lastUser = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedOrderItemStatusFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderItemStatusFinder.isFullCache(), AuditedOrderItemStatusFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderItemStatusFinder.processingDate().getInfinityDate()), AuditedOrderItemStatusFinder.isFullCache(), AuditedOrderItemStatusFinder.isOffHeap());
+			this.status = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final AuditedOrderItemStatusData otherData = (AuditedOrderItemStatusData) other;
+			if (getItemId() != otherData.getItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.itemId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderItemStatusFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.itemId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderItemStatusFinder.isFullCache(), AuditedOrderItemStatusFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderItemStatusFinder.processingDate().getInfinityDate()), AuditedOrderItemStatusFinder.isFullCache(), AuditedOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			AuditedOrderItemStatusDataOffHeap data = new AuditedOrderItemStatusDataOffHeap();
+			data.setItemId(this.getItemId());
+			data.setLastUpdateTime(this.getLastUpdateTime());
+			data.setLastUser(this.getLastUser());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setStatus(this.getStatus());
+			if (this.isStatusNull()) data.setStatusNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderItemStatusData auditedOrderItemStatusData = (AuditedOrderItemStatusData) newData;
+			this.setLastUpdateTime(auditedOrderItemStatusData.getLastUpdateTime());
+			this.setLastUser(auditedOrderItemStatusData.getLastUser());
+			this.setProcessingDateFrom(auditedOrderItemStatusData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderItemStatusData.getProcessingDateTo());
+			this.setStatus(auditedOrderItemStatusData.getStatus());
+			if (auditedOrderItemStatusData.isStatusNull()) this.setStatusNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderItemStatusData other = (AuditedOrderItemStatusData) newData;
+			if (!isLastUpdateTimeNull() ? !getLastUpdateTime().equals(other.getLastUpdateTime()) : !other.isLastUpdateTimeNull())
+			{
+				return true;
+			}
+
+			if (!isLastUserNull() ? !getLastUser().equals(other.getLastUser()) : !other.isLastUserNull())
+			{
+				return true;
+			}
+
+			if ( isStatusNull() != other.isStatusNull() || getStatus() != other.getStatus())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderItemStatusDataOnHeap copy = new AuditedOrderItemStatusDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderItemStatusDataOnHeap copy = new AuditedOrderItemStatusDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "itemId: "+(""+getItemId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderItemStatusData otherData = (AuditedOrderItemStatusData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderItemStatusData otherData = (AuditedOrderItemStatusData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderItemStatusData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderItemStatusFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderItemStatusFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderItemStatusData";
+		}
+	}
+
+	public class AuditedOrderItemStatusDataOffHeap extends MithraOffHeapDataObject implements AuditedOrderItemStatusData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public AuditedOrderItemStatusDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 32);
+		}
+
+		public AuditedOrderItemStatusDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isItemIdNull()
+		{
+			return false;
+		}
+
+		public boolean isLastUpdateTimeNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isLastUserNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isStatusNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getItemId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetLastUpdateTimeAsLong());
+			out.writeObject(this.getLastUser());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderItemStatusFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getStatus());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isStatusNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public int getItemId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setItemId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getLastUpdateTime()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetLastUpdateTimeAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setLastUpdateTime(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setLastUpdateTimeNull()
+		{
+			this.setLastUpdateTime(null);
+		}
+
+		public String getLastUser()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetLastUserAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setLastUser(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setLastUserNull()
+		{
+			this.setLastUser(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getStatus()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setStatus(int value)
+		{
+			zSetInteger(_storage, value, 40, 4, 0);
+		}
+
+		public void setStatusNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(AuditedOrderItemStatusDataOnHeap copy, boolean withRelationships)
+		{
+			copy.itemId = this.getItemId();
+			copy.lastUpdateTime = this.getLastUpdateTime();
+			copy.lastUser = this.getLastUser();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.status = this.getStatus();
+			if (isStatusNull())
+			{
+				copy.setStatusNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetInteger(_storage, in.readInt(), 40, 4, 0, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof AuditedOrderItemStatusDataOffHeap)
+			{
+				final AuditedOrderItemStatusDataOffHeap otherData = (AuditedOrderItemStatusDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final AuditedOrderItemStatusData otherData = (AuditedOrderItemStatusData) other;
+			if (getItemId() != otherData.getItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getItemId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderItemStatusFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderItemStatusData auditedOrderItemStatusData = (AuditedOrderItemStatusData) newData;
+			this.setLastUpdateTime(auditedOrderItemStatusData.getLastUpdateTime());
+			this.setLastUser(auditedOrderItemStatusData.getLastUser());
+			this.setProcessingDateFrom(auditedOrderItemStatusData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderItemStatusData.getProcessingDateTo());
+			this.setStatus(auditedOrderItemStatusData.getStatus());
+			if (auditedOrderItemStatusData.isStatusNull()) this.setStatusNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderItemStatusData other = (AuditedOrderItemStatusData) newData;
+			if (!isLastUpdateTimeNull() ? !getLastUpdateTime().equals(other.getLastUpdateTime()) : !other.isLastUpdateTimeNull())
+			{
+				return true;
+			}
+
+			if (!isLastUserNull() ? !getLastUser().equals(other.getLastUser()) : !other.isLastUserNull())
+			{
+				return true;
+			}
+
+			if ( isStatusNull() != other.isStatusNull() || getStatus() != other.getStatus())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderItemStatusDataOnHeap copy = new AuditedOrderItemStatusDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderItemStatusDataOnHeap copy = new AuditedOrderItemStatusDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "itemId: "+(""+getItemId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderItemStatusData otherData = (AuditedOrderItemStatusData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderItemStatusData otherData = (AuditedOrderItemStatusData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderItemStatusData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderItemStatusFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderItemStatusFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderItemStatusData";
+		}
+	}
+}
@@ -0,0 +1,324 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwo;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoAbstract;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoData;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoFinder;
+import com.gs.fw.common.mithra.test.domain.dated.AuditedOrderStatusTwoList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedOrderListAbstract extends DelegatingList<AuditedOrder> implements MithraDatedTransactionalList<AuditedOrder>
+{
+	public AuditedOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AuditedOrder[] elements()
+	{
+		AuditedOrder[] result = new AuditedOrder[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedOrderList intersection(AuditedOrderList another)
+	{
+		return (AuditedOrderList)super.intersection(another);
+	}
+
+	public AuditedOrder getAuditedOrderAt(int index)
+	{
+		return (AuditedOrder)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId</pre>
+	* @see AuditedOrderItem#getOrder() reverse relationship AuditedOrderItem.getOrder()
+	* @return items
+	*/
+	public AuditedOrderItemList getItems()
+	{
+		return (AuditedOrderItemList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.processingDate equalsEdgePoint</pre>
+	* @return items for all time
+	*/
+	public AuditedOrderItemList getItemsForAllTime()
+	{
+		return (AuditedOrderItemList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.itemsForAllTime());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId</pre>
+	* @see AuditedOrderItem#getDirectRefOrder() reverse relationship AuditedOrderItem.getDirectRefOrder()
+	* @return direct refitems
+	*/
+	public AuditedOrderItemList getDirectRefitems()
+	{
+		return (AuditedOrderItemList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.directRefitems());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderStatus.orderId = this.orderId</pre>
+	* @see AuditedOrderStatus#getOrder() reverse relationship AuditedOrderStatus.getOrder()
+	* @return The order status
+	*/
+	public AuditedOrderStatusList getOrderStatus()
+	{
+		return (AuditedOrderStatusList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.orderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public AuditedOrderItemList getItemForProducts(int productId)
+	{
+		return (AuditedOrderItemList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.itemForProduct(productId));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public AuditedOrderItemList getItemForProductSets(IntHashSet productIds)
+	{
+		return (AuditedOrderItemList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.itemForProductSet(productIds));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public AuditedOrderItemList getExpensiveItems(double price)
+	{
+		return (AuditedOrderItemList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.expensiveItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItem.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public AuditedOrderItemList getCheapItems(double price)
+	{
+		return (AuditedOrderItemList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.cheapItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and this.userId is not null</pre>
+	* @return left null filtered items
+	*/
+	public AuditedOrderItemList getLeftNullFilteredItems()
+	{
+		return (AuditedOrderItemList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.leftNullFilteredItems());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderStatus.orderId = this.orderId and this.userId is not null</pre>
+	* @return The left null filtered status
+	*/
+	public AuditedOrderStatusList getLeftNullFilteredStatus()
+	{
+		return (AuditedOrderStatusList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.leftNullFilteredStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderStatusTwo.orderId = this.orderId</pre>
+	* @see AuditedOrderStatusTwo#getOrder() reverse relationship AuditedOrderStatusTwo.getOrder()
+	* @return The order status2
+	*/
+	public AuditedOrderStatusTwoList getOrderStatus2s()
+	{
+		return (AuditedOrderStatusTwoList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.orderStatus2());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrder.orderId and BitemporalOrder.businessDate = {businessDate}</pre>
+	* @return The bitemporal order
+	*/
+	public BitemporalOrderList getBitemporalOrders(Timestamp businessDate)
+	{
+		return (BitemporalOrderList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.bitemporalOrder(businessDate));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderItem.orderId = this.orderId and AuditedOrderItemStatus.itemId = AuditedOrderItem.id</pre>
+	* @return item status
+	*/
+	public AuditedOrderItemStatusList getItemStatus()
+	{
+		return (AuditedOrderItemStatusList) this.zGetDelegated().resolveRelationship(this, AuditedOrderFinder.itemStatus());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedOrderFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderList getNonPersistentCopy()
+	{
+		AuditedOrderList result = new AuditedOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedOrderList asAdhoc()
+	{
+		return (AuditedOrderList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AuditedOrder> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AuditedOrderList merge(MithraTransactionalList<AuditedOrder> incoming, TopLevelMergeOptions<AuditedOrder> mergeOptions)
+	{
+		return (AuditedOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public AuditedOrderList getDetachedCopy()
+	{
+		AuditedOrderList result = new AuditedOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(AuditedOrderFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(AuditedOrderFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AuditedOrderFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(AuditedOrderFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(AuditedOrderFinder.trackingId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderFinder.processingDateTo(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(AuditedOrderFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,985 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AuditedOrderStatusData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 44;
+	boolean isLastUpdateTimeNull();
+	Timestamp getLastUpdateTime();
+	void setLastUpdateTime(Timestamp value);
+	void setLastUpdateTimeNull();
+	long zGetLastUpdateTimeAsLong();
+	boolean isLastUserNull();
+	String getLastUser();
+	void setLastUser(String value);
+	void setLastUserNull();
+	int zGetLastUserAsInt();
+	boolean isOrderIdNull();
+	int getOrderId();
+	void setOrderId(int value);
+	void setOrderIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isStatusNull();
+	int getStatus();
+	void setStatus(int value);
+	void setStatusNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getOrder();
+	void setOrder(Object related);
+	public class AuditedOrderStatusDataOnHeap implements AuditedOrderStatusData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private Timestamp lastUpdateTime;
+		private String lastUser;
+		private int orderId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int status;
+		public boolean isLastUpdateTimeNull()
+		{
+			return this.getLastUpdateTime() == null;
+		}
+
+		public boolean isLastUserNull()
+		{
+			return this.getLastUser() == null;
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStatusNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastUpdateTime);
+			out.writeObject(this.lastUser);
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderStatusFinder.processingDate().getInfinityDate());
+			out.writeInt(this.status);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public Timestamp getLastUpdateTime()
+		{
+			return this.lastUpdateTime;
+		}
+
+		public long zGetLastUpdateTimeAsLong()
+		{
+			if (lastUpdateTime == null) return TimestampPool.OFF_HEAP_NULL;
+			return lastUpdateTime.getTime();
+		}
+
+		public void setLastUpdateTime(Timestamp value)
+		{
+			this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderStatusFinder.isFullCache(), AuditedOrderStatusFinder.isOffHeap());
+		}
+
+		public void setLastUpdateTimeNull()
+		{
+			this.setLastUpdateTime(null);
+		}
+
+		public String getLastUser()
+		{
+			return this.lastUser;
+		}
+
+		public int zGetLastUserAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(lastUser);
+		}
+
+		public void setLastUser(String value)
+		{
+			this.lastUser = StringPool.getInstance().getOrAddToCache(value, AuditedOrderStatusFinder.isFullCache());
+		}
+
+		public void setLastUserNull()
+		{
+			this.setLastUser(null);
+		}
+
+		public int getOrderId()
+		{
+			return this.orderId;
+		}
+
+		public void setOrderId(int value)
+		{
+			this.orderId = value;
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderStatusFinder.isFullCache(), AuditedOrderStatusFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, AuditedOrderStatusFinder.isFullCache(), AuditedOrderStatusFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getStatus()
+		{
+			return this.status;
+		}
+
+		public void setStatus(int value)
+		{
+			this.status = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setStatusNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(AuditedOrderStatusDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.lastUpdateTime = this.lastUpdateTime;
+			copy.lastUser = this.lastUser;
+			copy.orderId = this.orderId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.status = this.status;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderStatusFinder.isFullCache(), AuditedOrderStatusFinder.isOffHeap());
+			this.lastUser = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedOrderStatusFinder.isFullCache());
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderStatusFinder.isFullCache(), AuditedOrderStatusFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderStatusFinder.processingDate().getInfinityDate()), AuditedOrderStatusFinder.isFullCache(), AuditedOrderStatusFinder.isOffHeap());
+			this.status = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final AuditedOrderStatusData otherData = (AuditedOrderStatusData) other;
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedOrderStatusFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedOrderStatusFinder.isFullCache(), AuditedOrderStatusFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedOrderStatusFinder.processingDate().getInfinityDate()), AuditedOrderStatusFinder.isFullCache(), AuditedOrderStatusFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getOrder()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setOrder(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			AuditedOrderStatusDataOffHeap data = new AuditedOrderStatusDataOffHeap();
+			data.setLastUpdateTime(this.getLastUpdateTime());
+			data.setLastUser(this.getLastUser());
+			data.setOrderId(this.getOrderId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setStatus(this.getStatus());
+			if (this.isStatusNull()) data.setStatusNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderStatusData auditedOrderStatusData = (AuditedOrderStatusData) newData;
+			this.setLastUpdateTime(auditedOrderStatusData.getLastUpdateTime());
+			this.setLastUser(auditedOrderStatusData.getLastUser());
+			this.setProcessingDateFrom(auditedOrderStatusData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderStatusData.getProcessingDateTo());
+			this.setStatus(auditedOrderStatusData.getStatus());
+			if (auditedOrderStatusData.isStatusNull()) this.setStatusNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderStatusData other = (AuditedOrderStatusData) newData;
+			if (!isLastUpdateTimeNull() ? !getLastUpdateTime().equals(other.getLastUpdateTime()) : !other.isLastUpdateTimeNull())
+			{
+				return true;
+			}
+
+			if (!isLastUserNull() ? !getLastUser().equals(other.getLastUser()) : !other.isLastUserNull())
+			{
+				return true;
+			}
+
+			if ( isStatusNull() != other.isStatusNull() || getStatus() != other.getStatus())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderStatusDataOnHeap copy = new AuditedOrderStatusDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderStatusDataOnHeap copy = new AuditedOrderStatusDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderStatusData otherData = (AuditedOrderStatusData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderStatusData otherData = (AuditedOrderStatusData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderStatusData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderStatusFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderStatusFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderStatusData";
+		}
+	}
+
+	public class AuditedOrderStatusDataOffHeap extends MithraOffHeapDataObject implements AuditedOrderStatusData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public AuditedOrderStatusDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 32);
+		}
+
+		public AuditedOrderStatusDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isLastUpdateTimeNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isLastUserNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isStatusNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetLastUpdateTimeAsLong());
+			out.writeObject(this.getLastUser());
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderStatusFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getStatus());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isStatusNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public Timestamp getLastUpdateTime()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetLastUpdateTimeAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setLastUpdateTime(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setLastUpdateTimeNull()
+		{
+			this.setLastUpdateTime(null);
+		}
+
+		public String getLastUser()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetLastUserAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setLastUser(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setLastUserNull()
+		{
+			this.setLastUser(null);
+		}
+
+		public int getOrderId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setOrderId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getStatus()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setStatus(int value)
+		{
+			zSetInteger(_storage, value, 40, 4, 0);
+		}
+
+		public void setStatusNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(AuditedOrderStatusDataOnHeap copy, boolean withRelationships)
+		{
+			copy.lastUpdateTime = this.getLastUpdateTime();
+			copy.lastUser = this.getLastUser();
+			copy.orderId = this.getOrderId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.status = this.getStatus();
+			if (isStatusNull())
+			{
+				copy.setStatusNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetInteger(_storage, in.readInt(), 40, 4, 0, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof AuditedOrderStatusDataOffHeap)
+			{
+				final AuditedOrderStatusDataOffHeap otherData = (AuditedOrderStatusDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final AuditedOrderStatusData otherData = (AuditedOrderStatusData) other;
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedOrderStatusFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getOrder()
+		{
+			return null;
+		}
+
+		public void setOrder(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedOrderStatusData auditedOrderStatusData = (AuditedOrderStatusData) newData;
+			this.setLastUpdateTime(auditedOrderStatusData.getLastUpdateTime());
+			this.setLastUser(auditedOrderStatusData.getLastUser());
+			this.setProcessingDateFrom(auditedOrderStatusData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedOrderStatusData.getProcessingDateTo());
+			this.setStatus(auditedOrderStatusData.getStatus());
+			if (auditedOrderStatusData.isStatusNull()) this.setStatusNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedOrderStatusData other = (AuditedOrderStatusData) newData;
+			if (!isLastUpdateTimeNull() ? !getLastUpdateTime().equals(other.getLastUpdateTime()) : !other.isLastUpdateTimeNull())
+			{
+				return true;
+			}
+
+			if (!isLastUserNull() ? !getLastUser().equals(other.getLastUser()) : !other.isLastUserNull())
+			{
+				return true;
+			}
+
+			if ( isStatusNull() != other.isStatusNull() || getStatus() != other.getStatus())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedOrderStatusDataOnHeap copy = new AuditedOrderStatusDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedOrderStatusDataOnHeap copy = new AuditedOrderStatusDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedOrderStatusData otherData = (AuditedOrderStatusData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedOrderStatusData otherData = (AuditedOrderStatusData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderStatusData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedOrderStatusFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedOrderStatusFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderStatusData";
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedOrderStatusListAbstract extends DelegatingList<AuditedOrderStatus> implements MithraDatedTransactionalList<AuditedOrderStatus>
+{
+	public AuditedOrderStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedOrderStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedOrderStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedOrderStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AuditedOrderStatus[] elements()
+	{
+		AuditedOrderStatus[] result = new AuditedOrderStatus[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedOrderStatusList intersection(AuditedOrderStatusList another)
+	{
+		return (AuditedOrderStatusList)super.intersection(another);
+	}
+
+	public AuditedOrderStatus getAuditedOrderStatusAt(int index)
+	{
+		return (AuditedOrderStatus)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = AuditedOrder.orderId</pre>
+	* @see AuditedOrder#getOrderStatus() reverse relationship AuditedOrder.getOrderStatus()
+	* @return The order
+	*/
+	public AuditedOrderList getOrders()
+	{
+		return (AuditedOrderList) this.zGetDelegated().resolveRelationship(this, AuditedOrderStatusFinder.order());
+	}
+
+	public void zSetParentContainerorder(AuditedOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			AuditedOrderStatus item = this.getAuditedOrderStatusAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderStatusList getNonPersistentCopy()
+	{
+		AuditedOrderStatusList result = new AuditedOrderStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedOrderStatusList asAdhoc()
+	{
+		return (AuditedOrderStatusList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AuditedOrderStatus> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AuditedOrderStatusList merge(MithraTransactionalList<AuditedOrderStatus> incoming, TopLevelMergeOptions<AuditedOrderStatus> mergeOptions)
+	{
+		return (AuditedOrderStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public AuditedOrderStatusList getDetachedCopy()
+	{
+		AuditedOrderStatusList result = new AuditedOrderStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(AuditedOrderStatusFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(AuditedOrderStatusFinder.status(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(AuditedOrderStatusFinder.lastUser(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusFinder.processingDateTo(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(AuditedOrderStatusFinder.status());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
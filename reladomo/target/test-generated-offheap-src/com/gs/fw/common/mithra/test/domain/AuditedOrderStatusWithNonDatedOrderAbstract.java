@@ -0,0 +1,636 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class AuditedOrderStatusWithNonDatedOrderAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+, OrderStatusInterface
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		AuditedOrderStatusWithNonDatedOrderFinder.processingDate()
+	, AuditedOrderStatusWithNonDatedOrderFinder.zGetDoubleAttributes(),AuditedOrderStatusWithNonDatedOrderFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(AuditedOrderStatusWithNonDatedOrder.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrderStatusWithNonDatedOrderData _castedSrcData = (AuditedOrderStatusWithNonDatedOrderData) _srcData;
+			OrderWithAuditedStatusData _castedTargetData = (OrderWithAuditedStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderStatusWithNonDatedOrderData _castedSrcData = (AuditedOrderStatusWithNonDatedOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedOrderStatusWithNonDatedOrderFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderData zSynchronizedGetData()
+	{
+		return (AuditedOrderStatusWithNonDatedOrderData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !AuditedOrderStatusWithNonDatedOrderFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public AuditedOrderStatusWithNonDatedOrder zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderStatusWithNonDatedOrder original = (AuditedOrderStatusWithNonDatedOrder) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			AuditedOrderStatusWithNonDatedOrderFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public AuditedOrderStatusWithNonDatedOrder getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderStatusWithNonDatedOrderAbstract result = (AuditedOrderStatusWithNonDatedOrderAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (AuditedOrderStatusWithNonDatedOrder ) result;
+	}
+
+	public AuditedOrderStatusWithNonDatedOrder zFindOriginal()
+	{
+		AuditedOrderStatusWithNonDatedOrderData data = (AuditedOrderStatusWithNonDatedOrderData) this.currentData;
+		Operation op;
+		op = AuditedOrderStatusWithNonDatedOrderFinder.orderId().eq(data.getOrderId());
+		op = op.and(AuditedOrderStatusWithNonDatedOrderFinder.processingDate().eq(this.getProcessingDate()));
+		return AuditedOrderStatusWithNonDatedOrderFinder.findOne(op);
+	}
+
+	public AuditedOrderStatusWithNonDatedOrder getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderStatusWithNonDatedOrderAbstract result = (AuditedOrderStatusWithNonDatedOrderAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (AuditedOrderStatusWithNonDatedOrder ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public AuditedOrderStatusWithNonDatedOrder copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (AuditedOrderStatusWithNonDatedOrder) behavior.updateOriginalOrInsert(this);
+	}
+
+	public AuditedOrderStatusWithNonDatedOrder copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AuditedOrderStatusWithNonDatedOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			AuditedOrderStatusWithNonDatedOrderData data = (AuditedOrderStatusWithNonDatedOrderData) this.currentData;
+			Operation op = AuditedOrderStatusWithNonDatedOrderFinder.processingDate().eq(this.processingDate);
+			op = op.and(AuditedOrderStatusWithNonDatedOrderFinder.orderId().eq(data.getOrderId()));
+			return AuditedOrderStatusWithNonDatedOrderFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return this.zSynchronizedGetData().isLastUpdateTimeNull();
+	}
+
+	public boolean isLastUserNull()
+	{
+		return this.zSynchronizedGetData().isLastUserNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStatusNull()
+	{
+		return this.zSynchronizedGetData().isStatusNull();
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		return this.zSynchronizedGetData().getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusWithNonDatedOrderFinder.lastUpdateTime(), newValue, false );
+	}
+
+	public void setLastUpdateTimeUsingInPlaceUpdate(Timestamp newValue)
+	{
+		AuditedOrderStatusWithNonDatedOrderData data;
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		data = (AuditedOrderStatusWithNonDatedOrderData) behavior.getCurrentDataForRead(this);
+		Timestamp current = data.getLastUpdateTime();
+		if (current == null)
+		{
+			if (newValue == null) return;
+		}
+		else
+		{
+			if (current.equals(newValue)) return;
+		}
+
+		AttributeUpdateWrapper updateWrapper =
+		new TimestampUpdateWrapper(
+			AuditedOrderStatusWithNonDatedOrderFinder.lastUpdateTime(),
+			behavior.getCurrentDataForWrite(this),
+			newValue);
+		behavior.inPlaceUpdate(this, updateWrapper, false);
+	}
+
+	public String getLastUser()
+	{
+		return this.zSynchronizedGetData().getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(AuditedOrderStatusWithNonDatedOrderFinder.lastUser(), newValue, false );
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(AuditedOrderStatusWithNonDatedOrderFinder.orderId(), newValue, true ,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusWithNonDatedOrderFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusWithNonDatedOrderFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getStatus()
+	{
+		AuditedOrderStatusWithNonDatedOrderData data = this.zSynchronizedGetData();
+		if (data.isStatusNull()) MithraNullPrimitiveException.throwNew("status", data);
+		return data.getStatus();
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(AuditedOrderStatusWithNonDatedOrderFinder.status(), newValue, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, AuditedOrderStatusWithNonDatedOrderFinder.status(), false, mustCheckCurrent);
+	}
+
+	public void setStatusNull()
+	{
+		zNullify(AuditedOrderStatusWithNonDatedOrderFinder.status(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		behavior.cascadeUpdateInPlaceBeforeTerminate(this);
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate(MithraDataObject _data)
+	{
+		AuditedOrderStatusWithNonDatedOrderData _newData = (AuditedOrderStatusWithNonDatedOrderData) _data;
+		this.setLastUpdateTimeUsingInPlaceUpdate(_newData.getLastUpdateTime());
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AuditedOrderStatusWithNonDatedOrderData _newData = (AuditedOrderStatusWithNonDatedOrderData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		AuditedOrderStatusWithNonDatedOrderData _newData = (AuditedOrderStatusWithNonDatedOrderData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		AuditedOrderStatusWithNonDatedOrderData _newData = (AuditedOrderStatusWithNonDatedOrderData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderWithAuditedStatus.orderId</pre>
+	* @see OrderWithAuditedStatus#getOrderStatus() reverse relationship OrderWithAuditedStatus.getOrderStatus()
+	* @return The order
+	*/
+	public OrderWithAuditedStatus getOrder()
+	{
+		OrderWithAuditedStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderStatusWithNonDatedOrderData _data = (AuditedOrderStatusWithNonDatedOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderWithAuditedStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderWithAuditedStatus) _related;
+				if (_related == null)
+				{
+					_op = OrderWithAuditedStatusFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderWithAuditedStatus) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderWithAuditedStatusFinder.orderId().eq(_data.getOrderId());
+					_result = OrderWithAuditedStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedOrderStatusWithNonDatedOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderWithAuditedStatus) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					_op = OrderWithAuditedStatusFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderWithAuditedStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(OrderWithAuditedStatus order)
+	{
+		((OrderWithAuditedStatus)order).setOrderStatus((AuditedOrderStatusWithNonDatedOrder)this);
+	}
+
+	public void zSetParentContainerorder(OrderWithAuditedStatusAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderStatusWithNonDatedOrderData _data = (AuditedOrderStatusWithNonDatedOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedOrderStatusWithNonDatedOrderFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AuditedOrderStatusWithNonDatedOrderData.AuditedOrderStatusWithNonDatedOrderDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedOrderStatusWithNonDatedOrderData data = (AuditedOrderStatusWithNonDatedOrderData) AuditedOrderStatusWithNonDatedOrderFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedOrderStatusWithNonDatedOrder has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromAuditedOrderStatusWithNonDatedOrderData( AuditedOrderStatusWithNonDatedOrderData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromAuditedOrderStatusWithNonDatedOrderData( AuditedOrderStatusWithNonDatedOrderData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) AuditedOrderStatusWithNonDatedOrderFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedOrderStatusWithNonDatedOrderFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderStatusWithNonDatedOrder getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(AuditedOrderStatusWithNonDatedOrderAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		AuditedOrderStatusWithNonDatedOrderAbstract from = (AuditedOrderStatusWithNonDatedOrderAbstract) f;
+		AuditedOrderStatusWithNonDatedOrderData newData = from.zSynchronizedGetData();
+		this.setLastUpdateTime(newData.getLastUpdateTime());
+		this.setLastUser(newData.getLastUser());
+		if (from.isStatusNull())
+		{
+			this.setStatusNull();
+		}
+		else
+		{
+			this.setStatus(newData.getStatus());
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		AuditedOrderStatusWithNonDatedOrderData newData = (AuditedOrderStatusWithNonDatedOrderData) d;
+		AuditedOrderStatusWithNonDatedOrderData data = (AuditedOrderStatusWithNonDatedOrderData) nd;
+		if (AuditedOrderStatusWithNonDatedOrderFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, AuditedOrderStatusWithNonDatedOrderFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, AuditedOrderStatusWithNonDatedOrderFinder.lastUser(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderStatusWithNonDatedOrderFinder.orderId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderStatusWithNonDatedOrderFinder.status(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedOrderStatusWithNonDatedOrderData data = ((AuditedOrderStatusWithNonDatedOrderData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderStatusWithNonDatedOrderData data = ((AuditedOrderStatusWithNonDatedOrderData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderStatusWithNonDatedOrderData data = ((AuditedOrderStatusWithNonDatedOrderData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedOrderStatusWithNonDatedOrderFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedOrderStatusWithNonDatedOrderData localData = (AuditedOrderStatusWithNonDatedOrderData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
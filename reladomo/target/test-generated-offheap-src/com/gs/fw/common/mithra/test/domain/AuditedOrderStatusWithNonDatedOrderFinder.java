@@ -0,0 +1,793 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditedOrderStatusWithNonDatedOrderFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditedOrderStatusWithNonDatedOrder";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditedOrderStatusWithNonDatedOrder";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedOrderStatusWithNonDatedOrder");
+	private static final AuditedOrderStatusWithNonDatedOrderSingleFinder<AuditedOrderStatusWithNonDatedOrder, Object, AuditedOrderStatusWithNonDatedOrder> finder = new AuditedOrderStatusWithNonDatedOrderSingleFinder<AuditedOrderStatusWithNonDatedOrder, Object, AuditedOrderStatusWithNonDatedOrder>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditedOrderStatusWithNonDatedOrderFinder.AuditedOrderStatusWithNonDatedOrderRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("status");
+		finderMethodMap.addNormalAttributeName("lastUser");
+		finderMethodMap.addNormalAttributeName("lastUpdateTime");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("order");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AuditedOrderStatusWithNonDatedOrder findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditedOrderStatusWithNonDatedOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditedOrderStatusWithNonDatedOrderList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedOrderStatusWithNonDatedOrderList) finder.findMany(operation);
+	}
+
+	public static AuditedOrderStatusWithNonDatedOrderList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedOrderStatusWithNonDatedOrderList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditedOrderStatusWithNonDatedOrder findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditedOrderStatusWithNonDatedOrder) FinderUtils.findOne(found);
+	}
+
+	public static AuditedOrderStatusWithNonDatedOrder findByPrimaryKey(int orderId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedOrderStatusWithNonDatedOrderData _castedTargetData = (AuditedOrderStatusWithNonDatedOrderData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return AuditedOrderStatusWithNonDatedOrderFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static AuditedOrderStatusWithNonDatedOrder zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditedOrderStatusWithNonDatedOrder) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditedOrderStatusWithNonDatedOrderRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditedOrderStatusWithNonDatedOrder, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements OrderStatusInterfaceFinder<AuditedOrderStatusWithNonDatedOrder>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> status;
+		private StringAttribute<ParentOwnerType> lastUser;
+		private TimestampAttribute<ParentOwnerType> lastUpdateTime;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AuditedOrderStatusWithNonDatedOrderOrderFinderSubclass<ParentOwnerType> order;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditedOrderStatusWithNonDatedOrderRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditedOrderStatusWithNonDatedOrderRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderStatusWithNonDatedOrderFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditedOrderStatusWithNonDatedOrderFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditedOrderStatusWithNonDatedOrderFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditedOrderStatusWithNonDatedOrderFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.orderId();
+			attributes[1] = this.status();
+			attributes[2] = this.lastUser();
+			attributes[3] = this.lastUpdateTime();
+			attributes[4] = this.processingDateFrom();
+			attributes[5] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.order());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditedOrderStatusWithNonDatedOrder findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedOrderStatusWithNonDatedOrderFinder.findOne(operation, false);
+		}
+
+		public AuditedOrderStatusWithNonDatedOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedOrderStatusWithNonDatedOrderFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditedOrderStatusWithNonDatedOrder> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditedOrderStatusWithNonDatedOrderList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditedOrderStatusWithNonDatedOrder> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditedOrderStatusWithNonDatedOrderList result = (AuditedOrderStatusWithNonDatedOrderList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditedOrderStatusWithNonDatedOrder> constructEmptyList()
+		{
+			return new AuditedOrderStatusWithNonDatedOrderList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1431741582;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedOrderStatusWithNonDatedOrderFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "OrderWithAuditedStatus", "orderStatus");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> status()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.status;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("\"STATUS\"","","status",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,40,4,0,false, false) :
+					new MappedIntegerAttribute(AuditedOrderStatusWithNonDatedOrderFinder.status(), this.mapper, this.zGetValueSelector());
+				this.status = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> lastUser()
+		{
+			StringAttribute<ParentOwnerType> result = this.lastUser;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LAST_USER","","lastUser",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,20,-1,-1,20,true, false) :
+					new MappedStringAttribute(AuditedOrderStatusWithNonDatedOrderFinder.lastUser(), this.mapper, this.zGetValueSelector());
+				this.lastUser = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> lastUpdateTime()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.lastUpdateTime;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("LAST_UPDATE_TIME","","lastUpdateTime",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderStatusWithNonDatedOrderFinder.lastUpdateTime(), this.mapper, this.zGetValueSelector());
+				this.lastUpdateTime = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditedOrderStatusWithNonDatedOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderStatusWithNonDatedOrderFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditedOrderStatusWithNonDatedOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderStatusWithNonDatedOrderFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),AuditedOrderStatusWithNonDatedOrderFinder.processingDateInfinity,false,false,AuditedOrderStatusWithNonDatedOrderFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditedOrderStatusWithNonDatedOrderFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public OrderWithAuditedStatusFinder.OrderWithAuditedStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderWithAuditedStatus, AuditedOrderStatusWithNonDatedOrder> order()
+		{
+			AuditedOrderStatusWithNonDatedOrderOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderWithAuditedStatusFinder.zGetOrderWithAuditedStatusOrderStatusMapper());
+				newMapper.setToMany(false);
+				result = new AuditedOrderStatusWithNonDatedOrderOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditedOrderStatusWithNonDatedOrderFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditedOrderStatusWithNonDatedOrderFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditedOrderStatusWithNonDatedOrderCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditedOrderStatusWithNonDatedOrderRelatedFinder<ParentOwnerType, ReturnType, AuditedOrderStatusWithNonDatedOrderList, OwnerType>
+	{
+		public AuditedOrderStatusWithNonDatedOrderCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditedOrderStatusWithNonDatedOrderCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditedOrderStatusWithNonDatedOrderCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedOrderStatusWithNonDatedOrderCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditedOrderStatusWithNonDatedOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditedOrderStatusWithNonDatedOrderRelatedFinder<ParentOwnerType, ReturnType, AuditedOrderStatusWithNonDatedOrderList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditedOrderStatusWithNonDatedOrderSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditedOrderStatusWithNonDatedOrderSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditedOrderStatusWithNonDatedOrder other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedOrderStatusWithNonDatedOrder findByPrimaryKey(int orderId, Timestamp processingDate)
+		{
+			AuditedOrderStatusWithNonDatedOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedOrderStatusWithNonDatedOrder) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditedOrderStatusWithNonDatedOrderSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditedOrderStatusWithNonDatedOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedOrderStatusWithNonDatedOrderSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to AUDITED_ORDER_STATUS_WNDO.ORDER_ID **/
+	public static IntegerAttribute<AuditedOrderStatusWithNonDatedOrder> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to AUDITED_ORDER_STATUS_WNDO."STATUS" **/
+	public static IntegerAttribute<AuditedOrderStatusWithNonDatedOrder> status()
+	{
+		return finder.status();
+	}
+
+	/** maps to AUDITED_ORDER_STATUS_WNDO.LAST_USER **/
+	public static StringAttribute<AuditedOrderStatusWithNonDatedOrder> lastUser()
+	{
+		return finder.lastUser();
+	}
+
+	/** maps to AUDITED_ORDER_STATUS_WNDO.LAST_UPDATE_TIME **/
+	public static TimestampAttribute<AuditedOrderStatusWithNonDatedOrder> lastUpdateTime()
+	{
+		return finder.lastUpdateTime();
+	}
+
+	/** maps to AUDITED_ORDER_STATUS_WNDO.IN_Z **/
+	public static TimestampAttribute<AuditedOrderStatusWithNonDatedOrder> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDITED_ORDER_STATUS_WNDO.OUT_Z **/
+	public static TimestampAttribute<AuditedOrderStatusWithNonDatedOrder> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<AuditedOrderStatusWithNonDatedOrder> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static OrderWithAuditedStatusFinder.OrderWithAuditedStatusSingleFinderForRelatedClasses<AuditedOrderStatusWithNonDatedOrder, OrderWithAuditedStatus, AuditedOrderStatusWithNonDatedOrder> order()
+	{
+		return finder.order();
+	}
+
+	public static class AuditedOrderStatusWithNonDatedOrderOrderFinderSubclass<ParentOwnerType> extends OrderWithAuditedStatusFinder.OrderWithAuditedStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderWithAuditedStatus, AuditedOrderStatusWithNonDatedOrder>
+	{
+		public AuditedOrderStatusWithNonDatedOrderOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderStatusWithNonDatedOrderOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderWithAuditedStatus plainValueOf(AuditedOrderStatusWithNonDatedOrder _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected OrderWithAuditedStatusList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderStatusWithNonDatedOrderList)_obj).getOrders();
+		}
+	}
+
+	public static Operation eq(AuditedOrderStatusWithNonDatedOrder other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static AuditedOrderStatusWithNonDatedOrderSingleFinder<AuditedOrderStatusWithNonDatedOrder, Object, AuditedOrderStatusWithNonDatedOrder> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderWithAuditedStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderWithAuditedStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedOrderStatusWithNonDatedOrder");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
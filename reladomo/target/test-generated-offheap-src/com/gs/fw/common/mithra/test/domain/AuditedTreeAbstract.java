@@ -0,0 +1,544 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class AuditedTreeAbstract
+implements MithraDatedObject, Serializable
+{
+	protected AuditedTreeData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy forparentNode = new ParentNodeRhs();
+	private static final class ParentNodeRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedTreeFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedTree _castedSrcObject = (AuditedTree) _srcObject;
+			AuditedTreeData _castedSrcData = (AuditedTreeData) _srcData;
+			AuditedTreeData _castedTargetData = (AuditedTreeData) _targetData;
+			if (!_castedSrcData.isParentIdNull() && _castedSrcData.getParentId() == _castedTargetData.getNodeId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedTreeData _castedSrcData = (AuditedTreeData) _srcData;
+			return HashUtil.hash(_castedSrcData.getParentId(), _castedSrcData.isParentIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public AuditedTreeAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedTreeFinder.isFullCache());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromAuditedTreeData( AuditedTreeData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromAuditedTreeData( AuditedTreeData data )
+	{
+		this.setFromAuditedTreeData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromAuditedTreeData( (AuditedTreeData) data );
+	}
+
+	public AuditedTree getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedTreeAbstract copy = (AuditedTreeAbstract)
+		AuditedTreeFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (AuditedTree)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedTreeData data = (AuditedTreeData) AuditedTreeFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedTree has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedTreeFinder.getMithraObjectPortal().getCache();
+	}
+
+	public AuditedTreeData zGetCurrentDataWithCheck()
+	{
+		AuditedTreeData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private AuditedTreeData zRefreshData(AuditedTreeData current)
+	{
+		AuditedTreeData newData = (AuditedTreeData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("AuditedTree has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(AuditedTreeData current)
+	{
+		boolean refresh = !AuditedTreeFinder.processingDate().dataMatches(current, processingDate);
+		return refresh;
+	}
+
+	private AuditedTreeData zGetOrInitializeInMemoryData()
+	{
+		AuditedTreeData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new AuditedTreeData.AuditedTreeDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		AuditedTreeData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			AuditedTreeData newData = (AuditedTreeData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.zGetCurrentDataWithCheck().isNameNull();
+	}
+
+	public String getName()
+	{
+		AuditedTreeData data = this.zGetCurrentDataWithCheck();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setName(newValue);
+	}
+
+	public boolean isNodeIdNull()
+	{
+		return this.currentData.isNodeIdNull();
+	}
+
+	public int getNodeId()
+	{
+		AuditedTreeData data = this.currentData;
+		return data.getNodeId();
+	}
+
+	public void setNodeId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setNodeId(newValue);
+	}
+
+	public boolean isParentIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isParentIdNull();
+	}
+
+	public int getParentId()
+	{
+		AuditedTreeData data = this.zGetCurrentDataWithCheck();
+		if (data.isParentIdNull())
+		MithraNullPrimitiveException.throwNew("parentId", data);
+		return data.getParentId();
+	}
+
+	public void setParentId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setParentId(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		AuditedTreeData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		AuditedTreeData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setParentIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setParentIdNull();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.nodeId = AuditedTree.parentId</pre>
+	* @see AuditedTree#getParentNode() reverse relationship AuditedTree.getParentNode()
+	* @return children
+	*/
+	public AuditedTreeList getChildren()
+	{
+		AuditedTreeData _data = ((AuditedTreeData)this.zGetCurrentDataWithCheck());
+		AuditedTreeList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedTreeList) _data.getChildren();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedTreeFinder.children().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = new AuditedTreeList(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedTree.nodeId = this.parentId</pre>
+	* @see AuditedTree#getChildren() reverse relationship AuditedTree.getChildren()
+	* @return The parent node
+	*/
+	public AuditedTree getParentNode()
+	{
+		AuditedTreeData _data = ((AuditedTreeData)this.zGetCurrentDataWithCheck());
+		AuditedTree _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedTree) _data.getParentNode();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isParentIdNull())
+			{
+				_portal = AuditedTreeFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forparentNode,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedTree) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedTreeFinder.parentNode().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = AuditedTreeFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setChildren(AuditedTreeList children)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedTreeData _data = this.zGetCurrentDataWithCheck();
+		_data.setChildren(children);
+	}
+
+	public void setParentNode(AuditedTree parentNode)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedTreeData _data = this.zGetCurrentDataWithCheck();
+		_data.setParentNode(parentNode);
+		if (parentNode == null)
+		{
+			this.setParentIdNull();
+		}
+		else
+		{
+			this.setParentId(
+				parentNode.getNodeId());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedTreeData data = ((AuditedTreeData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedTreeData data = ((AuditedTreeData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new AuditedTreeData.AuditedTreeDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedTreeFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = AuditedTreeFinder.processingDate().eq(processingDate);
+			op = op.and(AuditedTreeFinder.nodeId().eq(currentData.getNodeId()));
+			return AuditedTreeFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedTreeData localData = (AuditedTreeData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedTreeFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,904 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditedTreeFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditedTree";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditedTree";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedTree");
+	private static final AuditedTreeSingleFinder<AuditedTree, Object, AuditedTree> finder = new AuditedTreeSingleFinder<AuditedTree, Object, AuditedTree>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditedTreeFinder.AuditedTreeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("nodeId");
+		finderMethodMap.addNormalAttributeName("parentId");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("children");
+		finderMethodMap.addRelationshipName("parentNode");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[3];
+			result[0] = AuditedTreeFinder.nodeId().constructEqualityMapper(AuditedTreeFinder.parentId());
+			result[1] = AuditedTreeFinder.parentId().constructEqualityMapper(AuditedTreeFinder.nodeId());
+			result[2] = AuditedTreeFinder.processingDate().constructEqualityMapper(AuditedTreeFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AuditedTree findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditedTree findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditedTreeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedTreeList) finder.findMany(operation);
+	}
+
+	public static AuditedTreeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedTreeList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditedTree findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditedTree) FinderUtils.findOne(found);
+	}
+
+	public static AuditedTree findByPrimaryKey(int nodeId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(nodeId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedTreeData _castedTargetData = (AuditedTreeData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getNodeId())
+			{
+				return AuditedTreeFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static AuditedTree zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditedTree) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditedTreeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditedTree, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> nodeId;
+		private IntegerAttribute<ParentOwnerType> parentId;
+		private StringAttribute<ParentOwnerType> name;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AuditedTreeChildrenFinderSubclass<ParentOwnerType> children;
+		private AuditedTreeParentNodeFinderSubclass<ParentOwnerType> parentNode;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditedTreeRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditedTreeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedTreeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditedTreeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditedTreeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditedTreeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.nodeId();
+			attributes[1] = this.parentId();
+			attributes[2] = this.name();
+			attributes[3] = this.processingDateFrom();
+			attributes[4] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.children());
+				relatedFinders.add(this.parentNode());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditedTree findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedTreeFinder.findOne(operation, false);
+		}
+
+		public AuditedTree findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedTreeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditedTree> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditedTreeList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditedTree> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditedTreeList result = (AuditedTreeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditedTree> constructEmptyList()
+		{
+			return new AuditedTreeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1072060817;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nodeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nodeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NODEID","","nodeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedTreeFinder.nodeId(), this.mapper, this.zGetValueSelector());
+				this.nodeId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> parentId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.parentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PARENTID","","parentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,16,4,0,false, false) :
+					new MappedIntegerAttribute(AuditedTreeFinder.parentId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parentNode");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "AuditedTree", "children");
+				this.parentId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,12,-1,-1,128,true, false) :
+					new MappedStringAttribute(AuditedTreeFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditedTreeFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedTreeFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditedTreeFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedTreeFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),AuditedTreeFinder.processingDateInfinity,false,false,AuditedTreeFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditedTreeFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public AuditedTreeFinder.AuditedTreeCollectionFinderForRelatedClasses<ParentOwnerType, AuditedTreeList, AuditedTree> children()
+		{
+			AuditedTreeChildrenFinderSubclass<ParentOwnerType> result = this.children;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedTreeFinder.zGetAuditedTreeChildrenReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedTreeChildrenFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.children = result;
+			}
+
+			return result;
+		}
+
+		public AuditedTreeFinder.AuditedTreeSingleFinderForRelatedClasses<ParentOwnerType, AuditedTree, AuditedTree> parentNode()
+		{
+			AuditedTreeParentNodeFinderSubclass<ParentOwnerType> result = this.parentNode;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedTreeFinder.zGetAuditedTreeChildrenMapper());
+				newMapper.setToMany(false);
+				result = new AuditedTreeParentNodeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parentNode = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditedTreeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditedTreeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditedTreeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditedTreeRelatedFinder<ParentOwnerType, ReturnType, AuditedTreeList, OwnerType>
+	{
+		public AuditedTreeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditedTreeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditedTreeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedTreeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditedTreeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditedTreeRelatedFinder<ParentOwnerType, ReturnType, AuditedTreeList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditedTreeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditedTreeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditedTree other)
+		{
+			return this.nodeId().eq(other.getNodeId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedTree findByPrimaryKey(int nodeId, Timestamp processingDate)
+		{
+			AuditedTree _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(nodeId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedTree) _related;
+			if (_related == null)
+			{
+				_op = this.nodeId().eq(nodeId).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditedTreeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditedTreeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedTreeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper childrenReverseMapper = null;
+	public static Mapper zGetAuditedTreeChildrenReverseMapper()
+	{
+		if (childrenReverseMapper == null)
+		{
+			childrenReverseMapper = zConstructAuditedTreeChildrenReverseMapper();
+		}
+
+		return childrenReverseMapper;
+	}
+
+	private static Mapper childrenMapper = null;
+	public static Mapper zGetAuditedTreeChildrenMapper()
+	{
+		if (childrenMapper == null)
+		{
+			childrenMapper = zConstructAuditedTreeChildrenMapper();
+		}
+
+		return childrenMapper;
+	}
+
+	private static Mapper childrenPureReverseMapper = null;
+	public static Mapper zGetAuditedTreeChildrenPureReverseMapper()
+	{
+		if (childrenPureReverseMapper == null)
+		{
+			childrenPureReverseMapper = zConstructAuditedTreeChildrenPureReverseMapper();
+		}
+
+		return childrenPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedTreeChildrenPureReverseMapper()
+	{
+		InternalList childrenMapperMapperList = new InternalList(2);
+		childrenMapperMapperList.add(AuditedTreeFinder.zGetConstantJoin(0));
+		childrenMapperMapperList.add(AuditedTreeFinder.zGetConstantJoin(2));
+		Mapper childrenMapper = new MultiEqualityMapper(childrenMapperMapperList);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructAuditedTreeChildrenReverseMapper()
+	{
+		InternalList childrenMapperMapperList = new InternalList(2);
+		childrenMapperMapperList.add(AuditedTreeFinder.zGetConstantJoin(0));
+		childrenMapperMapperList.add(AuditedTreeFinder.zGetConstantJoin(2));
+		Mapper childrenMapper = new MultiEqualityMapper(childrenMapperMapperList);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructAuditedTreeChildrenMapper()
+	{
+		InternalList childrenMapperMapperList = new InternalList(2);
+		childrenMapperMapperList.add(AuditedTreeFinder.zGetConstantJoin(1));
+		childrenMapperMapperList.add(AuditedTreeFinder.zGetConstantJoin(2));
+		Mapper childrenMapper = new MultiEqualityMapper(childrenMapperMapperList);
+		childrenMapper.setName("parentNode");
+		return childrenMapper;
+	}
+
+	/** maps to AUDITED_TREE.NODEID **/
+	public static IntegerAttribute<AuditedTree> nodeId()
+	{
+		return finder.nodeId();
+	}
+
+	/** maps to AUDITED_TREE.PARENTID **/
+	public static IntegerAttribute<AuditedTree> parentId()
+	{
+		return finder.parentId();
+	}
+
+	/** maps to AUDITED_TREE."NAME" **/
+	public static StringAttribute<AuditedTree> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to AUDITED_TREE.IN_Z **/
+	public static TimestampAttribute<AuditedTree> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDITED_TREE.OUT_Z **/
+	public static TimestampAttribute<AuditedTree> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<AuditedTree> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static AuditedTreeFinder.AuditedTreeCollectionFinderForRelatedClasses<AuditedTree, AuditedTreeList, AuditedTree> children()
+	{
+		return finder.children();
+	}
+
+	public static class AuditedTreeChildrenFinderSubclass<ParentOwnerType> extends AuditedTreeFinder.AuditedTreeCollectionFinderForRelatedClasses<ParentOwnerType, AuditedTreeList, AuditedTree>
+	{
+		public AuditedTreeChildrenFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "children";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedTreeFinder.parentId(),
+				AuditedTreeFinder.processingDate()).withExtractors(
+				AuditedTreeFinder.nodeId(),
+				AuditedTreeFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedTreeChildrenFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedTreeList plainValueOf(AuditedTree _obj)
+		{
+			return _obj.getChildren();
+		}
+
+		protected AuditedTreeList plainListValueOf(Object _obj)
+		{
+			return ((AuditedTreeList)_obj).getChildren();
+		}
+	}
+
+	public static AuditedTreeFinder.AuditedTreeSingleFinderForRelatedClasses<AuditedTree, AuditedTree, AuditedTree> parentNode()
+	{
+		return finder.parentNode();
+	}
+
+	public static class AuditedTreeParentNodeFinderSubclass<ParentOwnerType> extends AuditedTreeFinder.AuditedTreeSingleFinderForRelatedClasses<ParentOwnerType, AuditedTree, AuditedTree>
+	{
+		public AuditedTreeParentNodeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parentNode";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedTreeFinder.nodeId(),
+				AuditedTreeFinder.processingDate()).withExtractors(
+				AuditedTreeFinder.parentId(),
+				AuditedTreeFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedTreeParentNodeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedTree plainValueOf(AuditedTree _obj)
+		{
+			return _obj.getParentNode();
+		}
+
+		protected AuditedTreeList plainListValueOf(Object _obj)
+		{
+			return ((AuditedTreeList)_obj).getParentNodes();
+		}
+	}
+
+	public static Operation eq(AuditedTree other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(nodeId());
+	}
+
+	public static AuditedTreeSingleFinder<AuditedTree, Object, AuditedTree> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			nodeId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			nodeId()
+			, nodeId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			parentId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedTree");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,130 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedTreeListAbstract extends DelegatingList<AuditedTree> implements MithraList<AuditedTree>
+{
+	public AuditedTreeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedTreeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedTreeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedTreeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public AuditedTree[] elements()
+	{
+		AuditedTree[] result = new AuditedTree[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedTreeList intersection(AuditedTreeList another)
+	{
+		return (AuditedTreeList)super.intersection(another);
+	}
+
+	public AuditedTree getAuditedTreeAt(int index)
+	{
+		return (AuditedTree)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.nodeId = AuditedTree.parentId</pre>
+	* @see AuditedTree#getParentNode() reverse relationship AuditedTree.getParentNode()
+	* @return children
+	*/
+	public AuditedTreeList getChildren()
+	{
+		return (AuditedTreeList) this.zGetDelegated().resolveRelationship(this, AuditedTreeFinder.children());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedTree.nodeId = this.parentId</pre>
+	* @see AuditedTree#getChildren() reverse relationship AuditedTree.getChildren()
+	* @return The parent node
+	*/
+	public AuditedTreeList getParentNodes()
+	{
+		return (AuditedTreeList) this.zGetDelegated().resolveRelationship(this, AuditedTreeFinder.parentNode());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedTreeFinder.getMithraObjectPortal();
+	}
+
+	public AuditedTreeList getNonPersistentCopy()
+	{
+		AuditedTreeList result = new AuditedTreeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedTreeList asAdhoc()
+	{
+		return (AuditedTreeList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AuditedTree> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
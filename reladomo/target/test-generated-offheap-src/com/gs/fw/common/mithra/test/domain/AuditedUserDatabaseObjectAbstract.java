@@ -0,0 +1,442 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class AuditedUserDatabaseObjectAbstract extends MithraAbstractDatedDatabaseObject implements MithraDatabaseObject, MithraDatedObjectFactory
+{
+	private IntSourceConnectionManager connectionManager;
+	private IntSourceSchemaManager schemaManager;
+	private IntSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "USERID,\"NAME\",ACTIVE,LAST_UPDATE,PROFILE_OID,DEFAULT_GROUP_OID,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.USERID,t0.\"NAME\",t0.ACTIVE,t0.LAST_UPDATE,t0.PROFILE_OID,t0.DEFAULT_GROUP_OID,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.OBJECTID = ?";
+	private static final String PK_INDEX_COLS = "OBJECTID";
+	protected AuditedUserDatabaseObjectAbstract()
+	{
+		super("AuditedUser", "com.gs.fw.common.mithra.test.domain.AuditedUserFinder",
+			9, 9,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedUserFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return AuditedUserFinder.getFinderInstance();
+	}
+
+	public static AuditedUserData allocateOnHeapData()
+	{
+		return new AuditedUserData.AuditedUserDataOnHeap();
+	}
+
+	public static AuditedUserData allocateOffHeapData()
+	{
+		return new AuditedUserData.AuditedUserDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new AuditedUserData.AuditedUserDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedUserFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		AuditedUserData data = new AuditedUserData.AuditedUserDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedUserFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(AuditedUserData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.AuditedUser", AuditedUserFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("AuditedUser"));
+			AuditedUserData.AuditedUserDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapFullDatedCache(AuditedUserFinder.getPrimaryKeyAttributes(), AuditedUserFinder.getAsOfAttributes(), this, AuditedUserFinder.getImmutableAttributes(), dataStorage);
+		}
+		else
+		{
+			result = new FullDatedCache(AuditedUserFinder.getPrimaryKeyAttributes(), AuditedUserFinder.getAsOfAttributes(), this, AuditedUserFinder.getImmutableAttributes());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(AuditedUserData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.AuditedUser", AuditedUserFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			AuditedUserData.AuditedUserDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(AuditedUserFinder.getPrimaryKeyAttributes(), AuditedUserFinder.getAsOfAttributes(), this, AuditedUserFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(AuditedUserFinder.getPrimaryKeyAttributes(), AuditedUserFinder.getAsOfAttributes(), this, AuditedUserFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			AuditedUserFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			AuditedUserFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		AuditedUserData data = (AuditedUserData)object;
+		return Integer.valueOf(data.getSourceId());
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((Integer)source).intValue());
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((Integer)source).intValue());
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((Integer)source).intValue());
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((Integer)source).intValue());
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((Integer)source).intValue());
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAuditedUserData(rs, dt ,((Integer)source).intValue());
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkAuditedUserData(1, (AuditedUserData) data, rs, dt ,((Integer)source).intValue());
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateAuditedUserPkData(rs, dt, ((Integer)source).intValue());
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((Integer)source).intValue());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getAuditedUserTableName(((Integer)source).intValue());
+	}
+
+	public String getAuditedUserTableName(int sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditedUserData data = (AuditedUserData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == AuditedUserFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "OBJECTID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.OBJECTID,t0.USERID,t0.\"NAME\",t0.ACTIVE,t0.LAST_UPDATE,t0.PROFILE_OID,t0.DEFAULT_GROUP_OID,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*9);
+		result.append(databaseAlias).append(".").append("OBJECTID");
+		result.append(",").append(databaseAlias).append(".").append("USERID");
+		result.append(",").append(databaseAlias).append(".").append("\"NAME\"");
+		result.append(",").append(databaseAlias).append(".").append("ACTIVE");
+		result.append(",").append(databaseAlias).append(".").append("LAST_UPDATE");
+		result.append(",").append(databaseAlias).append(".").append("PROFILE_OID");
+		result.append(",").append(databaseAlias).append(".").append("DEFAULT_GROUP_OID");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (IntSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public AuditedUserData inflateAuditedUserData(ResultSet rs, DatabaseType dt, int sourceAttribute)
+	throws SQLException
+	{
+		AuditedUserData data = inflateAuditedUserPkData(rs, dt, sourceAttribute);
+		inflateNonPkAuditedUserData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public AuditedUserData inflateAuditedUserPkData(ResultSet _rs, DatabaseType _dt, int sourceAttribute)
+	throws SQLException
+	{
+		AuditedUserData _data = new AuditedUserData.AuditedUserDataOnHeap();
+		int _pos = 1;
+		_data.setSourceId(sourceAttribute);
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkAuditedUserData(int _pos, AuditedUserData _datax, ResultSet _rs, DatabaseType _dt, int sourceAttribute)
+	throws SQLException
+	{
+		{
+			AuditedUserData _data = _datax;
+			_data.setUserId(trimString(_rs.getString(_pos++)));
+			_data.setName(trimString(_rs.getString(_pos++)));
+			_data.setActive(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setActiveNull();
+			}
+
+			Timestamp lastUpdatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setLastUpdate(lastUpdatetimestampValue);
+			_data.setProfileId(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "profileId");
+			_data.setDefaultGroupId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDefaultGroupIdNull();
+			}
+
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				AuditedUserFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType(int sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(int sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(int sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public String getFullyQualifiedTableName(int sourceAttribute)
+	{
+		String schema = this.getSchemaGenericSource(sourceAttribute);
+		String tableName = getAuditedUserTableName(sourceAttribute);
+		return this.getDatabaseType(sourceAttribute).getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof IntSourceSchemaManager )
+		{
+			this.schemaManager = (IntSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement IntSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof IntSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (IntSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement IntSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "AUDITED_USER_TBL";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		AuditedUser newObject = new AuditedUser(asOfDates[0]
+		);
+		newObject.zSetFromAuditedUserData((AuditedUserData) data);
+		return newObject;
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		AuditedUserData data = (AuditedUserData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		return pos;
+	}
+}
@@ -0,0 +1,2375 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditedUserFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("sourceId",
+		IntegerAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditedUser";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditedUser";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedUser");
+	private static final AuditedUserSingleFinder<AuditedUser, Object, AuditedUser> finder = new AuditedUserSingleFinder<AuditedUser, Object, AuditedUser>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byUserId = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditedUserFinder.AuditedUserRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("active");
+		finderMethodMap.addNormalAttributeName("lastUpdate");
+		finderMethodMap.addNormalAttributeName("profileId");
+		finderMethodMap.addNormalAttributeName("defaultGroupId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("groups");
+		finderMethodMap.addRelationshipName("groups2");
+		finderMethodMap.addRelationshipName("sourceGroups");
+		finderMethodMap.addRelationshipName("defaultGroup");
+		finderMethodMap.addRelationshipName("group7");
+		finderMethodMap.addRelationshipName("managedDefaultGroup");
+		finderMethodMap.addRelationshipName("defaultGroupManager");
+		finderMethodMap.addRelationshipName("groupsWithManagers");
+		finderMethodMap.addRelationshipName("userGroups2");
+		finderMethodMap.addRelationshipName("userGroups");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[14];
+			result[0] = AuditedUserFinder.id().constructEqualityMapper(AuditedUserGroupFinder.ownerId());
+			result[1] = AuditedUserGroupFinder.ownerId().constructEqualityMapper(AuditedUserFinder.id());
+			result[2] = AuditedUserFinder.sourceId().constructEqualityMapper(AuditedUserGroupFinder.sourceId());
+			result[3] = AuditedUserGroupFinder.sourceId().constructEqualityMapper(AuditedUserFinder.sourceId());
+			result[4] = AuditedUserFinder.processingDate().constructEqualityMapper(AuditedUserGroupFinder.processingDate());
+			result[5] = AuditedUserGroupFinder.processingDate().constructEqualityMapper(AuditedUserFinder.processingDate());
+			result[6] = AuditedUserFinder.defaultGroupId().constructEqualityMapper(AuditedGroupFinder.id());
+			result[7] = AuditedGroupFinder.id().constructEqualityMapper(AuditedUserFinder.defaultGroupId());
+			result[8] = AuditedUserFinder.sourceId().constructEqualityMapper(AuditedGroupFinder.sourceId());
+			result[9] = AuditedGroupFinder.sourceId().constructEqualityMapper(AuditedUserFinder.sourceId());
+			result[10] = AuditedUserFinder.processingDate().constructEqualityMapper(AuditedGroupFinder.processingDate());
+			result[11] = AuditedGroupFinder.processingDate().constructEqualityMapper(AuditedUserFinder.processingDate());
+			result[12] = AuditedUserFinder.id().constructEqualityMapper(AuditedGroupFinder.managerId());
+			result[13] = AuditedGroupFinder.managerId().constructEqualityMapper(AuditedUserFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return AuditedUserFinder.zSourceAttributeType;
+	}
+
+	public static AuditedUser findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditedUser findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditedUserList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedUserList) finder.findMany(operation);
+	}
+
+	public static AuditedUserList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedUserList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditedUser findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditedUser) FinderUtils.findOne(found);
+	}
+
+	public static AuditedUser findByPrimaryKey(int id, int sourceId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, sourceId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedUserData _castedTargetData = (AuditedUserData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId() && _bean.getI2AsInteger() == _castedTargetData.getSourceId())
+			{
+				return AuditedUserFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static AuditedUser findByUserId(String userId, int sourceId, Timestamp processingDate)
+	{
+		return finder.findByUserId(userId, sourceId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forUserId = new UserIdRhs();
+	private static final class UserIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedUserData _castedTargetData = (AuditedUserData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getUserId()) && _bean.getI1AsInteger() == _castedTargetData.getSourceId())
+			{
+				return AuditedUserFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static AuditedUser zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditedUser) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditedUserRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditedUser, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return AuditedUserFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> name;
+		private BooleanAttribute<ParentOwnerType> active;
+		private TimestampAttribute<ParentOwnerType> lastUpdate;
+		private IntegerAttribute<ParentOwnerType> profileId;
+		private IntegerAttribute<ParentOwnerType> defaultGroupId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AuditedUserGroupsFinderSubclass<ParentOwnerType> groups;
+		private AuditedUserGroups2FinderSubclass<ParentOwnerType> groups2;
+		private AuditedUserSourceGroupsFinderSubclass<ParentOwnerType> sourceGroups;
+		private AuditedUserDefaultGroupFinderSubclass<ParentOwnerType> defaultGroup;
+		private AuditedUserGroup7FinderSubclass<ParentOwnerType> group7;
+		private AuditedUserManagedDefaultGroupFinderSubclass<ParentOwnerType> managedDefaultGroup;
+		private AuditedUserDefaultGroupManagerFinderSubclass<ParentOwnerType> defaultGroupManager;
+		private AuditedUserGroupsWithManagersFinderSubclass<ParentOwnerType> groupsWithManagers;
+		private AuditedUserUserGroups2FinderSubclass<ParentOwnerType> userGroups2;
+		private AuditedUserUserGroupsFinderSubclass<ParentOwnerType> userGroups;
+		private IntegerAttribute<ParentOwnerType> sourceId;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditedUserRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditedUserRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedUserFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditedUserFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditedUserFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditedUserFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[9];
+			attributes[0] = this.id();
+			attributes[1] = this.userId();
+			attributes[2] = this.name();
+			attributes[3] = this.active();
+			attributes[4] = this.lastUpdate();
+			attributes[5] = this.profileId();
+			attributes[6] = this.defaultGroupId();
+			attributes[7] = this.processingDateFrom();
+			attributes[8] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(10);
+				relatedFinders.add(this.groups());
+				relatedFinders.add(this.groups2());
+				relatedFinders.add(this.sourceGroups());
+				relatedFinders.add(this.defaultGroup());
+				relatedFinders.add(this.group7());
+				relatedFinders.add(this.managedDefaultGroup());
+				relatedFinders.add(this.defaultGroupManager());
+				relatedFinders.add(this.groupsWithManagers());
+				relatedFinders.add(this.userGroups2());
+				relatedFinders.add(this.userGroups());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditedUser findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedUserFinder.findOne(operation, false);
+		}
+
+		public AuditedUser findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedUserFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditedUser> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditedUserList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditedUser> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditedUserList result = (AuditedUserList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditedUser> constructEmptyList()
+		{
+			return new AuditedUserList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 228086751;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return AuditedUserFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBJECTID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedUserFinder.id(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("userGroups");
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> userId()
+		{
+			StringAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("USERID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,53,-1,-1,40,true, false) :
+					new MappedStringAttribute(AuditedUserFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,29,-1,-1,128,true, false) :
+					new MappedStringAttribute(AuditedUserFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> active()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.active;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("ACTIVE","","active",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,16,-1,-1, false) :
+					new MappedBooleanAttribute(AuditedUserFinder.active(), this.mapper, this.zGetValueSelector());
+				this.active = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> lastUpdate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.lastUpdate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("LAST_UPDATE","","lastUpdate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,21,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedUserFinder.lastUpdate(), this.mapper, this.zGetValueSelector());
+				this.lastUpdate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> profileId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.profileId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROFILE_OID","","profileId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,49,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedUserFinder.profileId(), this.mapper, this.zGetValueSelector());
+				this.profileId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> defaultGroupId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.defaultGroupId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("DEFAULT_GROUP_OID","","defaultGroupId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,17,4,0,false, false) :
+					new MappedIntegerAttribute(AuditedUserFinder.defaultGroupId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("group7");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "AuditedGroup", "group7activeUsers");
+				this.defaultGroupId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,33,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditedUserFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedUserFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,41,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditedUserFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedUserFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate(null,"","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedUserFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),AuditedUserFinder.processingDateInfinity,false,false,AuditedUserFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditedUserFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<ParentOwnerType, AuditedGroupList, AuditedUser> groups()
+		{
+			AuditedUserGroupsFinderSubclass<ParentOwnerType> result = this.groups;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserGroupsReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedUserGroupsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.groups = result;
+			}
+
+			return result;
+		}
+
+		public AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<ParentOwnerType, AuditedGroupList, AuditedUser> groups2()
+		{
+			AuditedUserGroups2FinderSubclass<ParentOwnerType> result = this.groups2;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserGroups2ReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedUserGroups2FinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.groups2 = result;
+			}
+
+			return result;
+		}
+
+		public AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<ParentOwnerType, AuditedGroupList, AuditedUser> sourceGroups()
+		{
+			AuditedUserSourceGroupsFinderSubclass<ParentOwnerType> result = this.sourceGroups;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserSourceGroupsReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedUserSourceGroupsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.sourceGroups = result;
+			}
+
+			return result;
+		}
+
+		public AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedGroup, AuditedUser> defaultGroup()
+		{
+			AuditedUserDefaultGroupFinderSubclass<ParentOwnerType> result = this.defaultGroup;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserDefaultGroupReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedUserDefaultGroupFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.defaultGroup = result;
+			}
+
+			return result;
+		}
+
+		public AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedGroup, AuditedUser> group7()
+		{
+			AuditedUserGroup7FinderSubclass<ParentOwnerType> result = this.group7;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserGroup7ReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedUserGroup7FinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.group7 = result;
+			}
+
+			return result;
+		}
+
+		public AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedGroup, AuditedUser> managedDefaultGroup()
+		{
+			AuditedUserManagedDefaultGroupFinderSubclass<ParentOwnerType> result = this.managedDefaultGroup;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserManagedDefaultGroupReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedUserManagedDefaultGroupFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.managedDefaultGroup = result;
+			}
+
+			return result;
+		}
+
+		public AuditedUserFinder.AuditedUserSingleFinderForRelatedClasses<ParentOwnerType, AuditedUser, AuditedUser> defaultGroupManager()
+		{
+			AuditedUserDefaultGroupManagerFinderSubclass<ParentOwnerType> result = this.defaultGroupManager;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserDefaultGroupManagerReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedUserDefaultGroupManagerFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.defaultGroupManager = result;
+			}
+
+			return result;
+		}
+
+		public AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<ParentOwnerType, AuditedGroupList, AuditedUser> groupsWithManagers()
+		{
+			AuditedUserGroupsWithManagersFinderSubclass<ParentOwnerType> result = this.groupsWithManagers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserGroupsWithManagersReverseMapper());
+				newMapper.setToMany(true);
+				result = new AuditedUserGroupsWithManagersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.groupsWithManagers = result;
+			}
+
+			return result;
+		}
+
+		public AuditedUserGroupFinder.AuditedUserGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedUserGroup, AuditedUser> userGroups2()
+		{
+			AuditedUserUserGroups2FinderSubclass<ParentOwnerType> result = this.userGroups2;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserUserGroups2ReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedUserUserGroups2FinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.userGroups2 = result;
+			}
+
+			return result;
+		}
+
+		public AuditedUserGroupFinder.AuditedUserGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedUserGroup, AuditedUser> userGroups()
+		{
+			AuditedUserUserGroupsFinderSubclass<ParentOwnerType> result = this.userGroups;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserFinder.zGetAuditedUserUserGroupsReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedUserUserGroupsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.userGroups = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return AuditedUserFinder.sourceId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditedUserFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditedUserFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditedUserCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditedUserRelatedFinder<ParentOwnerType, ReturnType, AuditedUserList, OwnerType>
+	{
+		public AuditedUserCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditedUserCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditedUserCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedUserCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditedUserSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditedUserRelatedFinder<ParentOwnerType, ReturnType, AuditedUserList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditedUserSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditedUserSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditedUser other)
+		{
+			return this.id().eq(other.getId())
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedUser findByPrimaryKey(int id, int sourceId, Timestamp processingDate)
+		{
+			AuditedUser _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				_bean.setI2AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedUser) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.sourceId().eq(sourceId)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedUser findByUserId(String userId, int sourceId, Timestamp processingDate)
+		{
+			AuditedUser _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (userId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(userId);
+				_bean.setI1AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forUserId, processingDate, null, AuditedUserFinder.zGetIndexbyUserIdRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedUser) _related;
+			if (_related == null)
+			{
+				_op = this.userId().eq(userId).and(this.sourceId().eq(sourceId)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditedUserSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditedUserSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedUserSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper groupsReverseMapper = null;
+	public static Mapper zGetAuditedUserGroupsReverseMapper()
+	{
+		if (groupsReverseMapper == null)
+		{
+			groupsReverseMapper = zConstructAuditedUserGroupsReverseMapper();
+		}
+
+		return groupsReverseMapper;
+	}
+
+	private static Mapper groupsMapper = null;
+	public static Mapper zGetAuditedUserGroupsMapper()
+	{
+		if (groupsMapper == null)
+		{
+			groupsMapper = zConstructAuditedUserGroupsMapper();
+		}
+
+		return groupsMapper;
+	}
+
+	private static Mapper groupsPureReverseMapper = null;
+	public static Mapper zGetAuditedUserGroupsPureReverseMapper()
+	{
+		if (groupsPureReverseMapper == null)
+		{
+			groupsPureReverseMapper = zConstructAuditedUserGroupsPureReverseMapper();
+		}
+
+		return groupsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroupsPureReverseMapper()
+	{
+		InternalList groupsc0MapperMapperList = new InternalList(3);
+		groupsc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		groupsc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		groupsc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper groupsc0Mapper = new MultiEqualityMapper(groupsc0MapperMapperList);
+		InternalList groupsc1MapperMapperList = new InternalList(3);
+		groupsc1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		groupsc1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(2));
+		groupsc1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper groupsc1Mapper = new MultiEqualityMapper(groupsc1MapperMapperList);
+		Mapper groupsMapper = new ChainedMapper(groupsc0Mapper,groupsc1Mapper);
+		groupsMapper.setName("groups");
+		return groupsMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroupsReverseMapper()
+	{
+		InternalList groupsc0MapperMapperList = new InternalList(3);
+		groupsc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		groupsc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		groupsc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper groupsc0Mapper = new MultiEqualityMapper(groupsc0MapperMapperList);
+		InternalList groupsc1MapperMapperList = new InternalList(3);
+		groupsc1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		groupsc1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(2));
+		groupsc1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper groupsc1Mapper = new MultiEqualityMapper(groupsc1MapperMapperList);
+		Mapper groupsMapper = new ChainedMapper(groupsc0Mapper,groupsc1Mapper);
+		groupsMapper.setName("groups");
+		return groupsMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroupsMapper()
+	{
+		InternalList groupsc0MapperMapperList = new InternalList(3);
+		groupsc0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(1));
+		groupsc0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(3));
+		groupsc0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(5));
+		Mapper groupsc0Mapper = new MultiEqualityMapper(groupsc0MapperMapperList);
+		InternalList groupsc1MapperMapperList = new InternalList(3);
+		groupsc1MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(1));
+		groupsc1MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(3));
+		groupsc1MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(5));
+		Mapper groupsc1Mapper = new MultiEqualityMapper(groupsc1MapperMapperList);
+		Mapper groupsMapper = new ChainedMapper(groupsc0Mapper,groupsc1Mapper);
+		groupsMapper.setName("users");
+		return groupsMapper;
+	}
+
+	private static Mapper groupsMapperFragment = null;
+	public static Mapper zGetGroupsMapperFragment()
+	{
+		if (groupsMapperFragment == null)
+		{
+			groupsMapperFragment = zConstructGroupsMapperFragment();
+		}
+
+		return groupsMapperFragment;
+	}
+
+	private static Mapper zConstructGroupsMapperFragment()
+	{
+		InternalList groupsMapperMapperList = new InternalList(3);
+		groupsMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(1));
+		groupsMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(3));
+		groupsMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(5));
+		return new MultiEqualityMapper(groupsMapperMapperList);
+	}
+
+	private static Mapper groups2ReverseMapper = null;
+	public static Mapper zGetAuditedUserGroups2ReverseMapper()
+	{
+		if (groups2ReverseMapper == null)
+		{
+			groups2ReverseMapper = zConstructAuditedUserGroups2ReverseMapper();
+		}
+
+		return groups2ReverseMapper;
+	}
+
+	private static Mapper groups2Mapper = null;
+	public static Mapper zGetAuditedUserGroups2Mapper()
+	{
+		if (groups2Mapper == null)
+		{
+			groups2Mapper = zConstructAuditedUserGroups2Mapper();
+		}
+
+		return groups2Mapper;
+	}
+
+	private static Mapper groups2PureReverseMapper = null;
+	public static Mapper zGetAuditedUserGroups2PureReverseMapper()
+	{
+		if (groups2PureReverseMapper == null)
+		{
+			groups2PureReverseMapper = zConstructAuditedUserGroups2PureReverseMapper();
+		}
+
+		return groups2PureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroups2PureReverseMapper()
+	{
+		InternalList groups2c0MapperMapperList = new InternalList(3);
+		groups2c0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		groups2c0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		groups2c0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper groups2c0Mapper = new MultiEqualityMapper(groups2c0MapperMapperList);
+		InternalList groups2c1MapperMapperList = new InternalList(3);
+		groups2c1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		groups2c1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(2));
+		groups2c1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper groups2c1Mapper = new MultiEqualityMapper(groups2c1MapperMapperList);
+		Mapper groups2Mapper = new ChainedMapper(groups2c0Mapper,groups2c1Mapper);
+		groups2Mapper.setName("groups2");
+		return groups2Mapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroups2ReverseMapper()
+	{
+		InternalList groups2c0MapperInnerMapperMapperList = new InternalList(3);
+		groups2c0MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		groups2c0MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		groups2c0MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper groups2c0MapperInnerMapper = new MultiEqualityMapper(groups2c0MapperInnerMapperMapperList);
+		Mapper groups2c0Mapper = new FilteredMapper(groups2c0MapperInnerMapper, null, AuditedUserGroupFinder.zGetConstantOperation(0));
+		InternalList groups2c1MapperMapperList = new InternalList(3);
+		groups2c1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		groups2c1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(2));
+		groups2c1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper groups2c1Mapper = new MultiEqualityMapper(groups2c1MapperMapperList);
+		Mapper groups2Mapper = new ChainedMapper(groups2c0Mapper,groups2c1Mapper);
+		groups2Mapper.setName("groups2");
+		return groups2Mapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroups2Mapper()
+	{
+		InternalList groups2c0MapperMapperList = new InternalList(3);
+		groups2c0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(1));
+		groups2c0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(3));
+		groups2c0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(5));
+		Mapper groups2c0Mapper = new MultiEqualityMapper(groups2c0MapperMapperList);
+		InternalList groups2c1MapperInnerMapperMapperList = new InternalList(3);
+		groups2c1MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(1));
+		groups2c1MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(3));
+		groups2c1MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(5));
+		Mapper groups2c1MapperInnerMapper = new MultiEqualityMapper(groups2c1MapperInnerMapperMapperList);
+		Mapper groups2c1Mapper = new FilteredMapper(groups2c1MapperInnerMapper, AuditedUserGroupFinder.zGetConstantOperation(0), null);
+		Mapper groups2Mapper = new ChainedMapper(groups2c0Mapper,groups2c1Mapper);
+		groups2Mapper.setName("groups2_Reverse");
+		return groups2Mapper;
+	}
+
+	private static Mapper groups2MapperFragment = null;
+	public static Mapper zGetGroups2MapperFragment()
+	{
+		if (groups2MapperFragment == null)
+		{
+			groups2MapperFragment = zConstructGroups2MapperFragment();
+		}
+
+		return groups2MapperFragment;
+	}
+
+	private static Mapper zConstructGroups2MapperFragment()
+	{
+		InternalList groups2MapperMapperList = new InternalList(3);
+		groups2MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(1));
+		groups2MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(3));
+		groups2MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(5));
+		return new MultiEqualityMapper(groups2MapperMapperList);
+	}
+
+	private static Mapper sourceGroupsReverseMapper = null;
+	public static Mapper zGetAuditedUserSourceGroupsReverseMapper()
+	{
+		if (sourceGroupsReverseMapper == null)
+		{
+			sourceGroupsReverseMapper = zConstructAuditedUserSourceGroupsReverseMapper();
+		}
+
+		return sourceGroupsReverseMapper;
+	}
+
+	private static Mapper sourceGroupsMapper = null;
+	public static Mapper zGetAuditedUserSourceGroupsMapper()
+	{
+		if (sourceGroupsMapper == null)
+		{
+			sourceGroupsMapper = zConstructAuditedUserSourceGroupsMapper();
+		}
+
+		return sourceGroupsMapper;
+	}
+
+	private static Mapper sourceGroupsPureReverseMapper = null;
+	public static Mapper zGetAuditedUserSourceGroupsPureReverseMapper()
+	{
+		if (sourceGroupsPureReverseMapper == null)
+		{
+			sourceGroupsPureReverseMapper = zConstructAuditedUserSourceGroupsPureReverseMapper();
+		}
+
+		return sourceGroupsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserSourceGroupsPureReverseMapper()
+	{
+		InternalList sourceGroupsc0MapperMapperList = new InternalList(2);
+		sourceGroupsc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		sourceGroupsc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper sourceGroupsc0Mapper = new MultiEqualityMapper(sourceGroupsc0MapperMapperList);
+		InternalList sourceGroupsc1MapperMapperList = new InternalList(2);
+		sourceGroupsc1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		sourceGroupsc1MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper sourceGroupsc1Mapper = new MultiEqualityMapper(sourceGroupsc1MapperMapperList);
+		Mapper sourceGroupsMapper = new ChainedMapper(sourceGroupsc0Mapper,sourceGroupsc1Mapper);
+		sourceGroupsMapper.setName("sourceGroups");
+		return sourceGroupsMapper;
+	}
+
+	private static Mapper zConstructAuditedUserSourceGroupsReverseMapper()
+	{
+		InternalList sourceGroupsc0MapperInnerMapperMapperList = new InternalList(2);
+		sourceGroupsc0MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		sourceGroupsc0MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper sourceGroupsc0MapperInnerMapper = new MultiEqualityMapper(sourceGroupsc0MapperInnerMapperMapperList);
+		Mapper sourceGroupsc0Mapper = new FilteredMapper(sourceGroupsc0MapperInnerMapper, null, AuditedUserGroupFinder.zGetConstantOperation(1));
+		InternalList sourceGroupsc1MapperInnerMapperMapperList = new InternalList(2);
+		sourceGroupsc1MapperInnerMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		sourceGroupsc1MapperInnerMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper sourceGroupsc1MapperInnerMapper = new MultiEqualityMapper(sourceGroupsc1MapperInnerMapperMapperList);
+		Mapper sourceGroupsc1Mapper = new FilteredMapper(sourceGroupsc1MapperInnerMapper, null, AuditedGroupFinder.zGetConstantOperation(0));
+		Mapper sourceGroupsMapper = new ChainedMapper(sourceGroupsc0Mapper,sourceGroupsc1Mapper);
+		sourceGroupsMapper.setName("sourceGroups");
+		return sourceGroupsMapper;
+	}
+
+	private static Mapper zConstructAuditedUserSourceGroupsMapper()
+	{
+		InternalList sourceGroupsc0MapperInnerMapperMapperList = new InternalList(2);
+		sourceGroupsc0MapperInnerMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(1));
+		sourceGroupsc0MapperInnerMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(5));
+		Mapper sourceGroupsc0MapperInnerMapper = new MultiEqualityMapper(sourceGroupsc0MapperInnerMapperMapperList);
+		Mapper sourceGroupsc0Mapper = new FilteredMapper(sourceGroupsc0MapperInnerMapper, AuditedGroupFinder.zGetConstantOperation(0), null);
+		InternalList sourceGroupsc1MapperInnerMapperMapperList = new InternalList(2);
+		sourceGroupsc1MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(1));
+		sourceGroupsc1MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(5));
+		Mapper sourceGroupsc1MapperInnerMapper = new MultiEqualityMapper(sourceGroupsc1MapperInnerMapperMapperList);
+		Mapper sourceGroupsc1Mapper = new FilteredMapper(sourceGroupsc1MapperInnerMapper, AuditedUserGroupFinder.zGetConstantOperation(1), null);
+		Mapper sourceGroupsMapper = new ChainedMapper(sourceGroupsc0Mapper,sourceGroupsc1Mapper);
+		sourceGroupsMapper.setName("sourceUsers");
+		return sourceGroupsMapper;
+	}
+
+	private static Mapper sourceGroupsMapperFragment = null;
+	public static Mapper zGetSourceGroupsMapperFragment()
+	{
+		if (sourceGroupsMapperFragment == null)
+		{
+			sourceGroupsMapperFragment = zConstructSourceGroupsMapperFragment();
+		}
+
+		return sourceGroupsMapperFragment;
+	}
+
+	private static Mapper zConstructSourceGroupsMapperFragment()
+	{
+		InternalList sourceGroupsMapperInnerMapperMapperList = new InternalList(2);
+		sourceGroupsMapperInnerMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(1));
+		sourceGroupsMapperInnerMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(5));
+		Mapper sourceGroupsMapperInnerMapper = new MultiEqualityMapper(sourceGroupsMapperInnerMapperMapperList);
+		return new FilteredMapper(sourceGroupsMapperInnerMapper, AuditedGroupFinder.zGetConstantOperation(0), null);
+	}
+
+	private static Mapper defaultGroupReverseMapper = null;
+	public static Mapper zGetAuditedUserDefaultGroupReverseMapper()
+	{
+		if (defaultGroupReverseMapper == null)
+		{
+			defaultGroupReverseMapper = zConstructAuditedUserDefaultGroupReverseMapper();
+		}
+
+		return defaultGroupReverseMapper;
+	}
+
+	private static Mapper defaultGroupMapper = null;
+	public static Mapper zGetAuditedUserDefaultGroupMapper()
+	{
+		if (defaultGroupMapper == null)
+		{
+			defaultGroupMapper = zConstructAuditedUserDefaultGroupMapper();
+		}
+
+		return defaultGroupMapper;
+	}
+
+	private static Mapper defaultGroupPureReverseMapper = null;
+	public static Mapper zGetAuditedUserDefaultGroupPureReverseMapper()
+	{
+		if (defaultGroupPureReverseMapper == null)
+		{
+			defaultGroupPureReverseMapper = zConstructAuditedUserDefaultGroupPureReverseMapper();
+		}
+
+		return defaultGroupPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserDefaultGroupPureReverseMapper()
+	{
+		InternalList defaultGroupMapperMapperList = new InternalList(3);
+		defaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(6));
+		defaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		defaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupMapper = new MultiEqualityMapper(defaultGroupMapperMapperList);
+		defaultGroupMapper.setName("defaultGroup");
+		return defaultGroupMapper;
+	}
+
+	private static Mapper zConstructAuditedUserDefaultGroupReverseMapper()
+	{
+		InternalList defaultGroupMapperMapperList = new InternalList(3);
+		defaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(6));
+		defaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		defaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupMapper = new MultiEqualityMapper(defaultGroupMapperMapperList);
+		defaultGroupMapper.setName("defaultGroup");
+		return defaultGroupMapper;
+	}
+
+	private static Mapper zConstructAuditedUserDefaultGroupMapper()
+	{
+		InternalList defaultGroupMapperMapperList = new InternalList(3);
+		defaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(7));
+		defaultGroupMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		defaultGroupMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper defaultGroupMapper = new MultiEqualityMapper(defaultGroupMapperMapperList);
+		defaultGroupMapper.setName("defaultUsers");
+		return defaultGroupMapper;
+	}
+
+	private static Mapper group7ReverseMapper = null;
+	public static Mapper zGetAuditedUserGroup7ReverseMapper()
+	{
+		if (group7ReverseMapper == null)
+		{
+			group7ReverseMapper = zConstructAuditedUserGroup7ReverseMapper();
+		}
+
+		return group7ReverseMapper;
+	}
+
+	private static Mapper group7Mapper = null;
+	public static Mapper zGetAuditedUserGroup7Mapper()
+	{
+		if (group7Mapper == null)
+		{
+			group7Mapper = zConstructAuditedUserGroup7Mapper();
+		}
+
+		return group7Mapper;
+	}
+
+	private static Mapper group7PureReverseMapper = null;
+	public static Mapper zGetAuditedUserGroup7PureReverseMapper()
+	{
+		if (group7PureReverseMapper == null)
+		{
+			group7PureReverseMapper = zConstructAuditedUserGroup7PureReverseMapper();
+		}
+
+		return group7PureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroup7PureReverseMapper()
+	{
+		InternalList group7MapperMapperList = new InternalList(3);
+		group7MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(6));
+		group7MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		group7MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper group7Mapper = new MultiEqualityMapper(group7MapperMapperList);
+		group7Mapper.setName("group7");
+		return group7Mapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroup7ReverseMapper()
+	{
+		InternalList group7MapperInnerMapperMapperList = new InternalList(3);
+		group7MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(6));
+		group7MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		group7MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper group7MapperInnerMapper = new MultiEqualityMapper(group7MapperInnerMapperMapperList);
+		Mapper group7Mapper = new FilteredMapper(group7MapperInnerMapper, null, AuditedGroupFinder.zGetConstantOperation(1));
+		group7Mapper.setName("group7");
+		return group7Mapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroup7Mapper()
+	{
+		InternalList group7MapperInnerMapperMapperList = new InternalList(3);
+		group7MapperInnerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(7));
+		group7MapperInnerMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		group7MapperInnerMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper group7MapperInnerMapper = new MultiEqualityMapper(group7MapperInnerMapperMapperList);
+		Mapper group7Mapper = new FilteredMapper(group7MapperInnerMapper, AuditedGroupFinder.zGetConstantOperation(1), null);
+		group7Mapper.setName("group7activeUsers");
+		return group7Mapper;
+	}
+
+	private static Mapper managedDefaultGroupReverseMapper = null;
+	public static Mapper zGetAuditedUserManagedDefaultGroupReverseMapper()
+	{
+		if (managedDefaultGroupReverseMapper == null)
+		{
+			managedDefaultGroupReverseMapper = zConstructAuditedUserManagedDefaultGroupReverseMapper();
+		}
+
+		return managedDefaultGroupReverseMapper;
+	}
+
+	private static Mapper managedDefaultGroupMapper = null;
+	public static Mapper zGetAuditedUserManagedDefaultGroupMapper()
+	{
+		if (managedDefaultGroupMapper == null)
+		{
+			managedDefaultGroupMapper = zConstructAuditedUserManagedDefaultGroupMapper();
+		}
+
+		return managedDefaultGroupMapper;
+	}
+
+	private static Mapper managedDefaultGroupPureReverseMapper = null;
+	public static Mapper zGetAuditedUserManagedDefaultGroupPureReverseMapper()
+	{
+		if (managedDefaultGroupPureReverseMapper == null)
+		{
+			managedDefaultGroupPureReverseMapper = zConstructAuditedUserManagedDefaultGroupPureReverseMapper();
+		}
+
+		return managedDefaultGroupPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserManagedDefaultGroupPureReverseMapper()
+	{
+		InternalList managedDefaultGroupMapperMapperList = new InternalList(4);
+		managedDefaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(12));
+		managedDefaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(6));
+		managedDefaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		managedDefaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper managedDefaultGroupMapper = new MultiEqualityMapper(managedDefaultGroupMapperMapperList);
+		managedDefaultGroupMapper.setName("managedDefaultGroup");
+		return managedDefaultGroupMapper;
+	}
+
+	private static Mapper zConstructAuditedUserManagedDefaultGroupReverseMapper()
+	{
+		InternalList managedDefaultGroupMapperMapperList = new InternalList(4);
+		managedDefaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(12));
+		managedDefaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(6));
+		managedDefaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		managedDefaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper managedDefaultGroupMapper = new MultiEqualityMapper(managedDefaultGroupMapperMapperList);
+		managedDefaultGroupMapper.setName("managedDefaultGroup");
+		return managedDefaultGroupMapper;
+	}
+
+	private static Mapper zConstructAuditedUserManagedDefaultGroupMapper()
+	{
+		InternalList managedDefaultGroupMapperMapperList = new InternalList(4);
+		managedDefaultGroupMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(0));
+		managedDefaultGroupMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(7));
+		managedDefaultGroupMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		managedDefaultGroupMapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper managedDefaultGroupMapper = new MultiEqualityMapper(managedDefaultGroupMapperMapperList);
+		managedDefaultGroupMapper.setName("managedDefaultGroup_Reverse");
+		return managedDefaultGroupMapper;
+	}
+
+	private static Mapper defaultGroupManagerReverseMapper = null;
+	public static Mapper zGetAuditedUserDefaultGroupManagerReverseMapper()
+	{
+		if (defaultGroupManagerReverseMapper == null)
+		{
+			defaultGroupManagerReverseMapper = zConstructAuditedUserDefaultGroupManagerReverseMapper();
+		}
+
+		return defaultGroupManagerReverseMapper;
+	}
+
+	private static Mapper defaultGroupManagerMapper = null;
+	public static Mapper zGetAuditedUserDefaultGroupManagerMapper()
+	{
+		if (defaultGroupManagerMapper == null)
+		{
+			defaultGroupManagerMapper = zConstructAuditedUserDefaultGroupManagerMapper();
+		}
+
+		return defaultGroupManagerMapper;
+	}
+
+	private static Mapper defaultGroupManagerPureReverseMapper = null;
+	public static Mapper zGetAuditedUserDefaultGroupManagerPureReverseMapper()
+	{
+		if (defaultGroupManagerPureReverseMapper == null)
+		{
+			defaultGroupManagerPureReverseMapper = zConstructAuditedUserDefaultGroupManagerPureReverseMapper();
+		}
+
+		return defaultGroupManagerPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserDefaultGroupManagerPureReverseMapper()
+	{
+		InternalList defaultGroupManagerc0MapperMapperList = new InternalList(3);
+		defaultGroupManagerc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(6));
+		defaultGroupManagerc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		defaultGroupManagerc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupManagerc0Mapper = new MultiEqualityMapper(defaultGroupManagerc0MapperMapperList);
+		InternalList defaultGroupManagerc1MapperMapperList = new InternalList(3);
+		defaultGroupManagerc1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(0));
+		defaultGroupManagerc1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		defaultGroupManagerc1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper defaultGroupManagerc1Mapper = new MultiEqualityMapper(defaultGroupManagerc1MapperMapperList);
+		Mapper defaultGroupManagerMapper = new ChainedMapper(defaultGroupManagerc0Mapper,defaultGroupManagerc1Mapper);
+		defaultGroupManagerMapper.setName("defaultGroupManager");
+		return defaultGroupManagerMapper;
+	}
+
+	private static Mapper zConstructAuditedUserDefaultGroupManagerReverseMapper()
+	{
+		InternalList defaultGroupManagerc0MapperMapperList = new InternalList(3);
+		defaultGroupManagerc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(6));
+		defaultGroupManagerc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		defaultGroupManagerc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupManagerc0Mapper = new MultiEqualityMapper(defaultGroupManagerc0MapperMapperList);
+		InternalList defaultGroupManagerc1MapperMapperList = new InternalList(3);
+		defaultGroupManagerc1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(0));
+		defaultGroupManagerc1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		defaultGroupManagerc1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper defaultGroupManagerc1Mapper = new MultiEqualityMapper(defaultGroupManagerc1MapperMapperList);
+		Mapper defaultGroupManagerMapper = new ChainedMapper(defaultGroupManagerc0Mapper,defaultGroupManagerc1Mapper);
+		defaultGroupManagerMapper.setName("defaultGroupManager");
+		return defaultGroupManagerMapper;
+	}
+
+	private static Mapper zConstructAuditedUserDefaultGroupManagerMapper()
+	{
+		InternalList defaultGroupManagerc0MapperMapperList = new InternalList(3);
+		defaultGroupManagerc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(12));
+		defaultGroupManagerc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		defaultGroupManagerc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupManagerc0Mapper = new MultiEqualityMapper(defaultGroupManagerc0MapperMapperList);
+		InternalList defaultGroupManagerc1MapperMapperList = new InternalList(3);
+		defaultGroupManagerc1MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(7));
+		defaultGroupManagerc1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		defaultGroupManagerc1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper defaultGroupManagerc1Mapper = new MultiEqualityMapper(defaultGroupManagerc1MapperMapperList);
+		Mapper defaultGroupManagerMapper = new ChainedMapper(defaultGroupManagerc0Mapper,defaultGroupManagerc1Mapper);
+		defaultGroupManagerMapper.setName("defaultGroupManager_Reverse");
+		return defaultGroupManagerMapper;
+	}
+
+	private static Mapper defaultGroupManagerMapperFragment = null;
+	public static Mapper zGetDefaultGroupManagerMapperFragment()
+	{
+		if (defaultGroupManagerMapperFragment == null)
+		{
+			defaultGroupManagerMapperFragment = zConstructDefaultGroupManagerMapperFragment();
+		}
+
+		return defaultGroupManagerMapperFragment;
+	}
+
+	private static Mapper zConstructDefaultGroupManagerMapperFragment()
+	{
+		InternalList defaultGroupManagerMapperMapperList = new InternalList(3);
+		defaultGroupManagerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(12));
+		defaultGroupManagerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(8));
+		defaultGroupManagerMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(10));
+		return new MultiEqualityMapper(defaultGroupManagerMapperMapperList);
+	}
+
+	private static Mapper groupsWithManagersReverseMapper = null;
+	public static Mapper zGetAuditedUserGroupsWithManagersReverseMapper()
+	{
+		if (groupsWithManagersReverseMapper == null)
+		{
+			groupsWithManagersReverseMapper = zConstructAuditedUserGroupsWithManagersReverseMapper();
+		}
+
+		return groupsWithManagersReverseMapper;
+	}
+
+	private static Mapper groupsWithManagersMapper = null;
+	public static Mapper zGetAuditedUserGroupsWithManagersMapper()
+	{
+		if (groupsWithManagersMapper == null)
+		{
+			groupsWithManagersMapper = zConstructAuditedUserGroupsWithManagersMapper();
+		}
+
+		return groupsWithManagersMapper;
+	}
+
+	private static Mapper groupsWithManagersPureReverseMapper = null;
+	public static Mapper zGetAuditedUserGroupsWithManagersPureReverseMapper()
+	{
+		if (groupsWithManagersPureReverseMapper == null)
+		{
+			groupsWithManagersPureReverseMapper = zConstructAuditedUserGroupsWithManagersPureReverseMapper();
+		}
+
+		return groupsWithManagersPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroupsWithManagersPureReverseMapper()
+	{
+		InternalList groupsWithManagersc0MapperMapperList = new InternalList(3);
+		groupsWithManagersc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		groupsWithManagersc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		groupsWithManagersc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper groupsWithManagersc0Mapper = new MultiEqualityMapper(groupsWithManagersc0MapperMapperList);
+		InternalList groupsWithManagersc1pMapperMapperList = new InternalList(3);
+		groupsWithManagersc1pMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		groupsWithManagersc1pMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(2));
+		groupsWithManagersc1pMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper groupsWithManagersc1pMapper = new MultiEqualityMapper(groupsWithManagersc1pMapperMapperList);
+		InternalList groupsWithManagersc1b0MapperMapperList = new InternalList(3);
+		groupsWithManagersc1b0MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(0));
+		groupsWithManagersc1b0MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		groupsWithManagersc1b0MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper groupsWithManagersc1b0Mapper = new MultiEqualityMapper(groupsWithManagersc1b0MapperMapperList);
+		Mapper groupsWithManagersc1Mapper = new FilteredMapper(groupsWithManagersc1pMapper, null, new MappedOperation(groupsWithManagersc1b0Mapper, new All(groupsWithManagersc1b0Mapper.getAnyRightAttribute())));
+		Mapper groupsWithManagersMapper = new ChainedMapper(groupsWithManagersc0Mapper,groupsWithManagersc1Mapper);
+		groupsWithManagersMapper.setName("groupsWithManagers");
+		return groupsWithManagersMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroupsWithManagersReverseMapper()
+	{
+		InternalList groupsWithManagersc0MapperMapperList = new InternalList(3);
+		groupsWithManagersc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		groupsWithManagersc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		groupsWithManagersc0MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper groupsWithManagersc0Mapper = new MultiEqualityMapper(groupsWithManagersc0MapperMapperList);
+		InternalList groupsWithManagersc1pMapperMapperList = new InternalList(3);
+		groupsWithManagersc1pMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		groupsWithManagersc1pMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(2));
+		groupsWithManagersc1pMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper groupsWithManagersc1pMapper = new MultiEqualityMapper(groupsWithManagersc1pMapperMapperList);
+		InternalList groupsWithManagersc1b0MapperMapperList = new InternalList(3);
+		groupsWithManagersc1b0MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(0));
+		groupsWithManagersc1b0MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		groupsWithManagersc1b0MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper groupsWithManagersc1b0Mapper = new MultiEqualityMapper(groupsWithManagersc1b0MapperMapperList);
+		Mapper groupsWithManagersc1Mapper = new FilteredMapper(groupsWithManagersc1pMapper, null, new MappedOperation(groupsWithManagersc1b0Mapper, new All(groupsWithManagersc1b0Mapper.getAnyRightAttribute())));
+		Mapper groupsWithManagersMapper = new ChainedMapper(groupsWithManagersc0Mapper,groupsWithManagersc1Mapper);
+		groupsWithManagersMapper.setName("groupsWithManagers");
+		return groupsWithManagersMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroupsWithManagersMapper()
+	{
+		InternalList groupsWithManagersb0c0MapperMapperList = new InternalList(3);
+		groupsWithManagersb0c0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(1));
+		groupsWithManagersb0c0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(3));
+		groupsWithManagersb0c0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(5));
+		Mapper groupsWithManagersb0c0Mapper = new MultiEqualityMapper(groupsWithManagersb0c0MapperMapperList);
+		InternalList groupsWithManagersb0c1MapperMapperList = new InternalList(3);
+		groupsWithManagersb0c1MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(1));
+		groupsWithManagersb0c1MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(3));
+		groupsWithManagersb0c1MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(5));
+		Mapper groupsWithManagersb0c1Mapper = new MultiEqualityMapper(groupsWithManagersb0c1MapperMapperList);
+		Mapper groupsWithManagersb0Mapper = new ChainedMapper(groupsWithManagersb0c0Mapper,groupsWithManagersb0c1Mapper);
+		InternalList groupsWithManagersb1MapperMapperList = new InternalList(3);
+		groupsWithManagersb1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(0));
+		groupsWithManagersb1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		groupsWithManagersb1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper groupsWithManagersb1Mapper = new MultiEqualityMapper(groupsWithManagersb1MapperMapperList);
+		Mapper groupsWithManagersMapper = new FilteredMapper(groupsWithManagersb0Mapper, new MappedOperation(groupsWithManagersb1Mapper, new All(groupsWithManagersb1Mapper.getAnyRightAttribute())), null);
+		groupsWithManagersMapper.setName("groupsWithManagers_Reverse");
+		return groupsWithManagersMapper;
+	}
+
+	private static Mapper groupsWithManagersMapperFragment = null;
+	public static Mapper zGetGroupsWithManagersMapperFragment()
+	{
+		if (groupsWithManagersMapperFragment == null)
+		{
+			groupsWithManagersMapperFragment = zConstructGroupsWithManagersMapperFragment();
+		}
+
+		return groupsWithManagersMapperFragment;
+	}
+
+	private static Mapper zConstructGroupsWithManagersMapperFragment()
+	{
+		InternalList groupsWithManagersb0MapperMapperList = new InternalList(3);
+		groupsWithManagersb0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(1));
+		groupsWithManagersb0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(3));
+		groupsWithManagersb0MapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(5));
+		Mapper groupsWithManagersb0Mapper = new MultiEqualityMapper(groupsWithManagersb0MapperMapperList);
+		InternalList groupsWithManagersb1MapperMapperList = new InternalList(3);
+		groupsWithManagersb1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(0));
+		groupsWithManagersb1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(2));
+		groupsWithManagersb1MapperMapperList.add(AuditedGroupFinder.zGetConstantJoin(4));
+		Mapper groupsWithManagersb1Mapper = new MultiEqualityMapper(groupsWithManagersb1MapperMapperList);
+		return new FilteredMapper(groupsWithManagersb0Mapper, new MappedOperation(groupsWithManagersb1Mapper, new All(groupsWithManagersb1Mapper.getAnyRightAttribute())), null);
+	}
+
+	private static Mapper userGroups2ReverseMapper = null;
+	public static Mapper zGetAuditedUserUserGroups2ReverseMapper()
+	{
+		if (userGroups2ReverseMapper == null)
+		{
+			userGroups2ReverseMapper = zConstructAuditedUserUserGroups2ReverseMapper();
+		}
+
+		return userGroups2ReverseMapper;
+	}
+
+	private static Mapper userGroups2Mapper = null;
+	public static Mapper zGetAuditedUserUserGroups2Mapper()
+	{
+		if (userGroups2Mapper == null)
+		{
+			userGroups2Mapper = zConstructAuditedUserUserGroups2Mapper();
+		}
+
+		return userGroups2Mapper;
+	}
+
+	private static Mapper userGroups2PureReverseMapper = null;
+	public static Mapper zGetAuditedUserUserGroups2PureReverseMapper()
+	{
+		if (userGroups2PureReverseMapper == null)
+		{
+			userGroups2PureReverseMapper = zConstructAuditedUserUserGroups2PureReverseMapper();
+		}
+
+		return userGroups2PureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserUserGroups2PureReverseMapper()
+	{
+		InternalList userGroups2MapperMapperList = new InternalList(3);
+		userGroups2MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		userGroups2MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		userGroups2MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper userGroups2Mapper = new MultiEqualityMapper(userGroups2MapperMapperList);
+		userGroups2Mapper.setName("userGroups2");
+		return userGroups2Mapper;
+	}
+
+	private static Mapper zConstructAuditedUserUserGroups2ReverseMapper()
+	{
+		InternalList userGroups2MapperMapperList = new InternalList(3);
+		userGroups2MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		userGroups2MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		userGroups2MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper userGroups2Mapper = new MultiEqualityMapper(userGroups2MapperMapperList);
+		userGroups2Mapper.setName("userGroups2");
+		return userGroups2Mapper;
+	}
+
+	private static Mapper zConstructAuditedUserUserGroups2Mapper()
+	{
+		InternalList userGroups2MapperMapperList = new InternalList(3);
+		userGroups2MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(1));
+		userGroups2MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(3));
+		userGroups2MapperMapperList.add(AuditedUserFinder.zGetConstantJoin(5));
+		Mapper userGroups2Mapper = new MultiEqualityMapper(userGroups2MapperMapperList);
+		userGroups2Mapper.setName("userGroups2_Reverse");
+		return userGroups2Mapper;
+	}
+
+	private static Mapper userGroupsReverseMapper = null;
+	public static Mapper zGetAuditedUserUserGroupsReverseMapper()
+	{
+		if (userGroupsReverseMapper == null)
+		{
+			userGroupsReverseMapper = zConstructAuditedUserUserGroupsReverseMapper();
+		}
+
+		return userGroupsReverseMapper;
+	}
+
+	private static Mapper userGroupsMapper = null;
+	public static Mapper zGetAuditedUserUserGroupsMapper()
+	{
+		if (userGroupsMapper == null)
+		{
+			userGroupsMapper = zConstructAuditedUserUserGroupsMapper();
+		}
+
+		return userGroupsMapper;
+	}
+
+	private static Mapper userGroupsPureReverseMapper = null;
+	public static Mapper zGetAuditedUserUserGroupsPureReverseMapper()
+	{
+		if (userGroupsPureReverseMapper == null)
+		{
+			userGroupsPureReverseMapper = zConstructAuditedUserUserGroupsPureReverseMapper();
+		}
+
+		return userGroupsPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserUserGroupsPureReverseMapper()
+	{
+		InternalList userGroupsMapperMapperList = new InternalList(3);
+		userGroupsMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		userGroupsMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		userGroupsMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper userGroupsMapper = new MultiEqualityMapper(userGroupsMapperMapperList);
+		userGroupsMapper.setName("userGroups");
+		return userGroupsMapper;
+	}
+
+	private static Mapper zConstructAuditedUserUserGroupsReverseMapper()
+	{
+		InternalList userGroupsMapperMapperList = new InternalList(3);
+		userGroupsMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(0));
+		userGroupsMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(2));
+		userGroupsMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(4));
+		Mapper userGroupsMapper = new MultiEqualityMapper(userGroupsMapperMapperList);
+		userGroupsMapper.setName("userGroups");
+		return userGroupsMapper;
+	}
+
+	private static Mapper zConstructAuditedUserUserGroupsMapper()
+	{
+		InternalList userGroupsMapperMapperList = new InternalList(3);
+		userGroupsMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(1));
+		userGroupsMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(3));
+		userGroupsMapperMapperList.add(AuditedUserFinder.zGetConstantJoin(5));
+		Mapper userGroupsMapper = new MultiEqualityMapper(userGroupsMapperMapperList);
+		userGroupsMapper.setName("userGroups_Reverse");
+		return userGroupsMapper;
+	}
+
+	/** maps to AUDITED_USER_TBL.OBJECTID **/
+	public static IntegerAttribute<AuditedUser> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to AUDITED_USER_TBL.USERID **/
+	public static StringAttribute<AuditedUser> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to AUDITED_USER_TBL."NAME" **/
+	public static StringAttribute<AuditedUser> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to AUDITED_USER_TBL.ACTIVE **/
+	public static BooleanAttribute<AuditedUser> active()
+	{
+		return finder.active();
+	}
+
+	/** maps to AUDITED_USER_TBL.LAST_UPDATE **/
+	public static TimestampAttribute<AuditedUser> lastUpdate()
+	{
+		return finder.lastUpdate();
+	}
+
+	/** maps to AUDITED_USER_TBL.PROFILE_OID **/
+	public static IntegerAttribute<AuditedUser> profileId()
+	{
+		return finder.profileId();
+	}
+
+	/** maps to AUDITED_USER_TBL.DEFAULT_GROUP_OID **/
+	public static IntegerAttribute<AuditedUser> defaultGroupId()
+	{
+		return finder.defaultGroupId();
+	}
+
+	/** maps to AUDITED_USER_TBL.IN_Z **/
+	public static TimestampAttribute<AuditedUser> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDITED_USER_TBL.OUT_Z **/
+	public static TimestampAttribute<AuditedUser> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static IntegerAttribute<AuditedUser> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	public static AsOfAttribute<AuditedUser> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<AuditedUser, AuditedGroupList, AuditedUser> groups()
+	{
+		return finder.groups();
+	}
+
+	public static class AuditedUserGroupsFinderSubclass<ParentOwnerType> extends AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<ParentOwnerType, AuditedGroupList, AuditedUser>
+	{
+		public AuditedUserGroupsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = AuditedGroupFinder.name().descendingOrderBy();
+			this._type = COMPLEX_TO_MANY;
+			this._name = "groups";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserGroupsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedGroupList plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getGroups();
+		}
+
+		protected AuditedGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getGroups();
+		}
+	}
+
+	public static AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<AuditedUser, AuditedGroupList, AuditedUser> groups2()
+	{
+		return finder.groups2();
+	}
+
+	public static class AuditedUserGroups2FinderSubclass<ParentOwnerType> extends AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<ParentOwnerType, AuditedGroupList, AuditedUser>
+	{
+		public AuditedUserGroups2FinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = AuditedGroupFinder.name().descendingOrderBy();
+			this._type = COMPLEX_TO_MANY;
+			this._name = "groups2";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserGroups2FinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedGroupList plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getGroups2();
+		}
+
+		protected AuditedGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getGroups2();
+		}
+	}
+
+	public static AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<AuditedUser, AuditedGroupList, AuditedUser> sourceGroups()
+	{
+		return finder.sourceGroups();
+	}
+
+	public static class AuditedUserSourceGroupsFinderSubclass<ParentOwnerType> extends AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<ParentOwnerType, AuditedGroupList, AuditedUser>
+	{
+		public AuditedUserSourceGroupsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "sourceGroups";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserSourceGroupsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedGroupList plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getSourceGroups();
+		}
+
+		protected AuditedGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getSourceGroups();
+		}
+	}
+
+	public static AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<AuditedUser, AuditedGroup, AuditedUser> defaultGroup()
+	{
+		return finder.defaultGroup();
+	}
+
+	public static class AuditedUserDefaultGroupFinderSubclass<ParentOwnerType> extends AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedGroup, AuditedUser>
+	{
+		public AuditedUserDefaultGroupFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "defaultGroup";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedGroupFinder.id(),
+				AuditedGroupFinder.sourceId(),
+				AuditedGroupFinder.processingDate()).withExtractors(
+				AuditedUserFinder.defaultGroupId(),
+				AuditedUserFinder.sourceId(),
+				AuditedUserFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserDefaultGroupFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedGroup plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getDefaultGroup();
+		}
+
+		protected AuditedGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getDefaultGroups();
+		}
+	}
+
+	public static AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<AuditedUser, AuditedGroup, AuditedUser> group7()
+	{
+		return finder.group7();
+	}
+
+	public static class AuditedUserGroup7FinderSubclass<ParentOwnerType> extends AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedGroup, AuditedUser>
+	{
+		public AuditedUserGroup7FinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "group7";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedGroupFinder.id(),
+				AuditedGroupFinder.sourceId(),
+				AuditedGroupFinder.type(),
+				AuditedGroupFinder.processingDate()).withExtractors(
+				AuditedUserFinder.defaultGroupId(),
+				AuditedUserFinder.sourceId(),
+				((OperationWithParameterExtractor)AuditedGroupFinder.zGetConstantOperation(1)).getParameterExtractor(),
+				AuditedUserFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserGroup7FinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedGroup plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getGroup7();
+		}
+
+		protected AuditedGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getGroup7s();
+		}
+	}
+
+	public static AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<AuditedUser, AuditedGroup, AuditedUser> managedDefaultGroup()
+	{
+		return finder.managedDefaultGroup();
+	}
+
+	public static class AuditedUserManagedDefaultGroupFinderSubclass<ParentOwnerType> extends AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedGroup, AuditedUser>
+	{
+		public AuditedUserManagedDefaultGroupFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "managedDefaultGroup";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedGroupFinder.id(),
+				AuditedGroupFinder.managerId(),
+				AuditedGroupFinder.sourceId(),
+				AuditedGroupFinder.processingDate()).withExtractors(
+				AuditedUserFinder.defaultGroupId(),
+				AuditedUserFinder.id(),
+				AuditedUserFinder.sourceId(),
+				AuditedUserFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserManagedDefaultGroupFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedGroup plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getManagedDefaultGroup();
+		}
+
+		protected AuditedGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getManagedDefaultGroups();
+		}
+	}
+
+	public static AuditedUserFinder.AuditedUserSingleFinderForRelatedClasses<AuditedUser, AuditedUser, AuditedUser> defaultGroupManager()
+	{
+		return finder.defaultGroupManager();
+	}
+
+	public static class AuditedUserDefaultGroupManagerFinderSubclass<ParentOwnerType> extends AuditedUserFinder.AuditedUserSingleFinderForRelatedClasses<ParentOwnerType, AuditedUser, AuditedUser>
+	{
+		public AuditedUserDefaultGroupManagerFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "defaultGroupManager";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserDefaultGroupManagerFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedUser plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getDefaultGroupManager();
+		}
+
+		protected AuditedUserList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getDefaultGroupManagers();
+		}
+	}
+
+	public static AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<AuditedUser, AuditedGroupList, AuditedUser> groupsWithManagers()
+	{
+		return finder.groupsWithManagers();
+	}
+
+	public static class AuditedUserGroupsWithManagersFinderSubclass<ParentOwnerType> extends AuditedGroupFinder.AuditedGroupCollectionFinderForRelatedClasses<ParentOwnerType, AuditedGroupList, AuditedUser>
+	{
+		public AuditedUserGroupsWithManagersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "groupsWithManagers";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserGroupsWithManagersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedGroupList plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getGroupsWithManagers();
+		}
+
+		protected AuditedGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getGroupsWithManagers();
+		}
+	}
+
+	public static AuditedUserGroupFinder.AuditedUserGroupSingleFinderForRelatedClasses<AuditedUser, AuditedUserGroup, AuditedUser> userGroups2()
+	{
+		return finder.userGroups2();
+	}
+
+	public static class AuditedUserUserGroups2FinderSubclass<ParentOwnerType> extends AuditedUserGroupFinder.AuditedUserGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedUserGroup, AuditedUser>
+	{
+		public AuditedUserUserGroups2FinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "userGroups2";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserUserGroups2FinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedUserGroup plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getUserGroups2();
+		}
+
+		protected AuditedUserGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getUserGroups2s();
+		}
+	}
+
+	public static AuditedUserGroupFinder.AuditedUserGroupSingleFinderForRelatedClasses<AuditedUser, AuditedUserGroup, AuditedUser> userGroups()
+	{
+		return finder.userGroups();
+	}
+
+	public static class AuditedUserUserGroupsFinderSubclass<ParentOwnerType> extends AuditedUserGroupFinder.AuditedUserGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedUserGroup, AuditedUser>
+	{
+		public AuditedUserUserGroupsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "userGroups";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedUserGroupFinder.ownerId(),
+				AuditedUserGroupFinder.sourceId(),
+				AuditedUserGroupFinder.processingDate()).withExtractors(
+				AuditedUserFinder.id(),
+				AuditedUserFinder.sourceId(),
+				AuditedUserFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserUserGroupsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedUserGroup plainValueOf(AuditedUser _obj)
+		{
+			return _obj.getUserGroups();
+		}
+
+		protected AuditedUserGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserList)_obj).getUserGroups();
+		}
+	}
+
+	public static Operation eq(AuditedUser other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static AuditedUserSingleFinder<AuditedUser, Object, AuditedUser> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_byUserId = cache.addUniqueIndex("byUserId", new Attribute[] 
+		{
+			userId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			id()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			defaultGroupId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("3 Index", new Attribute[] 
+		{
+			defaultGroupId()
+			, id()
+			, sourceId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyUserIdRef() 
+	{
+		return INDEX_byUserId; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedUser");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(int sourceId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(sourceId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<Integer> sourceIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceIdSet, listener);
+	}
+}
@@ -0,0 +1,494 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class AuditedUserGroupAbstract
+implements MithraDatedObject, Serializable
+{
+	protected AuditedUserGroupData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy forgroup = new GroupRhs();
+	private static final class GroupRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedGroupFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedUserGroup _castedSrcObject = (AuditedUserGroup) _srcObject;
+			AuditedUserGroupData _castedSrcData = (AuditedUserGroupData) _srcData;
+			AuditedGroupData _castedTargetData = (AuditedGroupData) _targetData;
+			if (_castedSrcData.getDependentId() == _castedTargetData.getId() && _castedSrcData.getSourceId() == _castedTargetData.getSourceId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedUserGroupData _castedSrcData = (AuditedUserGroupData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getDependentId()),HashUtil.hash(_castedSrcData.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public AuditedUserGroupAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedUserGroupFinder.isFullCache());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromAuditedUserGroupData( AuditedUserGroupData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromAuditedUserGroupData( AuditedUserGroupData data )
+	{
+		this.setFromAuditedUserGroupData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromAuditedUserGroupData( (AuditedUserGroupData) data );
+	}
+
+	public AuditedUserGroup getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedUserGroupAbstract copy = (AuditedUserGroupAbstract)
+		AuditedUserGroupFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (AuditedUserGroup)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedUserGroupData data = (AuditedUserGroupData) AuditedUserGroupFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedUserGroup has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedUserGroupFinder.getMithraObjectPortal().getCache();
+	}
+
+	public AuditedUserGroupData zGetCurrentDataWithCheck()
+	{
+		AuditedUserGroupData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private AuditedUserGroupData zRefreshData(AuditedUserGroupData current)
+	{
+		AuditedUserGroupData newData = (AuditedUserGroupData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("AuditedUserGroup has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(AuditedUserGroupData current)
+	{
+		boolean refresh = !AuditedUserGroupFinder.processingDate().dataMatches(current, processingDate);
+		return refresh;
+	}
+
+	private AuditedUserGroupData zGetOrInitializeInMemoryData()
+	{
+		AuditedUserGroupData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new AuditedUserGroupData.AuditedUserGroupDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		AuditedUserGroupData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			AuditedUserGroupData newData = (AuditedUserGroupData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isDependentIdNull()
+	{
+		return this.currentData.isDependentIdNull();
+	}
+
+	public int getDependentId()
+	{
+		AuditedUserGroupData data = this.currentData;
+		return data.getDependentId();
+	}
+
+	public void setDependentId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDependentId(newValue);
+	}
+
+	public boolean isOwnerIdNull()
+	{
+		return this.currentData.isOwnerIdNull();
+	}
+
+	public int getOwnerId()
+	{
+		AuditedUserGroupData data = this.currentData;
+		return data.getOwnerId();
+	}
+
+	public void setOwnerId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setOwnerId(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		AuditedUserGroupData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		AuditedUserGroupData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isSourceIdNull();
+	}
+
+	public int getSourceId()
+	{
+		AuditedUserGroupData data = this.zGetCurrentDataWithCheck();
+		return data.getSourceId();
+	}
+
+	public void setSourceId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setSourceId(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedGroup.id = this.dependentId</pre>
+	* @return The group
+	*/
+	public AuditedGroup getGroup()
+	{
+		AuditedUserGroupData _data = ((AuditedUserGroupData)this.zGetCurrentDataWithCheck());
+		AuditedGroup _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedGroup) _data.getGroup();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			{
+				_portal = AuditedGroupFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forgroup,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedGroup) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedUserGroupFinder.group().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = AuditedGroupFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setGroup(AuditedGroup group)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserGroupData _data = this.zGetCurrentDataWithCheck();
+		_data.setGroup(group);
+		if (group == null)
+		{
+			this.setDependentId(0);
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setDependentId(
+				group.getId());
+			this.setSourceId(
+				group.getSourceId());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedUserGroupData data = ((AuditedUserGroupData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedUserGroupData data = ((AuditedUserGroupData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new AuditedUserGroupData.AuditedUserGroupDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedUserGroupFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = AuditedUserGroupFinder.processingDate().eq(processingDate);
+			op = op.and(AuditedUserGroupFinder.dependentId().eq(currentData.getDependentId()));
+			op = op.and(AuditedUserGroupFinder.ownerId().eq(currentData.getOwnerId()));
+			op = op.and(AuditedUserGroupFinder.sourceId().eq(currentData.getSourceId()));
+			return AuditedUserGroupFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedUserGroupData localData = (AuditedUserGroupData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedUserGroupFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,914 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditedUserGroupFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("sourceId",
+		IntegerAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditedUserGroup";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditedUserGroup";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedUserGroup");
+	private static final AuditedUserGroupSingleFinder<AuditedUserGroup, Object, AuditedUserGroup> finder = new AuditedUserGroupSingleFinder<AuditedUserGroup, Object, AuditedUserGroup>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditedUserGroupFinder.AuditedUserGroupRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("ownerId");
+		finderMethodMap.addNormalAttributeName("dependentId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("group");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = AuditedUserGroupFinder.dependentId().constructEqualityMapper(AuditedGroupFinder.id());
+			result[1] = AuditedGroupFinder.id().constructEqualityMapper(AuditedUserGroupFinder.dependentId());
+			result[2] = AuditedUserGroupFinder.sourceId().constructEqualityMapper(AuditedGroupFinder.sourceId());
+			result[3] = AuditedGroupFinder.sourceId().constructEqualityMapper(AuditedUserGroupFinder.sourceId());
+			result[4] = AuditedUserGroupFinder.processingDate().constructEqualityMapper(AuditedGroupFinder.processingDate());
+			result[5] = AuditedGroupFinder.processingDate().constructEqualityMapper(AuditedUserGroupFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = AuditedUserGroupFinder.dependentId().eq(2);
+			result[1] = AuditedUserGroupFinder.sourceId().eq(1);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return AuditedUserGroupFinder.zSourceAttributeType;
+	}
+
+	public static AuditedUserGroup findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditedUserGroup findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditedUserGroupList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedUserGroupList) finder.findMany(operation);
+	}
+
+	public static AuditedUserGroupList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedUserGroupList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditedUserGroup findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditedUserGroup) FinderUtils.findOne(found);
+	}
+
+	public static AuditedUserGroup findByPrimaryKey(int ownerId, int dependentId, int sourceId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(ownerId, dependentId, sourceId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedUserGroupData _castedTargetData = (AuditedUserGroupData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOwnerId() && _bean.getI2AsInteger() == _castedTargetData.getDependentId() && _bean.getI3AsInteger() == _castedTargetData.getSourceId())
+			{
+				return AuditedUserGroupFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger()));
+		}
+	}
+
+	public static AuditedUserGroup zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditedUserGroup) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditedUserGroupRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditedUserGroup, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return AuditedUserGroupFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> ownerId;
+		private IntegerAttribute<ParentOwnerType> dependentId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AuditedUserGroupGroupFinderSubclass<ParentOwnerType> group;
+		private IntegerAttribute<ParentOwnerType> sourceId;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditedUserGroupRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditedUserGroupRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedUserGroupFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditedUserGroupFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditedUserGroupFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditedUserGroupFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.ownerId();
+			attributes[1] = this.dependentId();
+			attributes[2] = this.processingDateFrom();
+			attributes[3] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.group());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditedUserGroup findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedUserGroupFinder.findOne(operation, false);
+		}
+
+		public AuditedUserGroup findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedUserGroupFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditedUserGroup> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditedUserGroupList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditedUserGroup> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditedUserGroupList result = (AuditedUserGroupList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditedUserGroup> constructEmptyList()
+		{
+			return new AuditedUserGroupList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -362188186;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return AuditedUserGroupFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> ownerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.ownerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_OID","","ownerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedUserGroupFinder.ownerId(), this.mapper, this.zGetValueSelector());
+				this.ownerId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> dependentId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.dependentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("GROUP_OID","","dependentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedUserGroupFinder.dependentId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("group");
+				this.dependentId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditedUserGroupFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedUserGroupFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditedUserGroupFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedUserGroupFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate(null,"","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,4,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedUserGroupFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),AuditedUserGroupFinder.processingDateInfinity,false,false,AuditedUserGroupFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditedUserGroupFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedGroup, AuditedUserGroup> group()
+		{
+			AuditedUserGroupGroupFinderSubclass<ParentOwnerType> result = this.group;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedUserGroupFinder.zGetAuditedUserGroupGroupReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedUserGroupGroupFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.group = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return AuditedUserGroupFinder.sourceId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditedUserGroupFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditedUserGroupFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditedUserGroupCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditedUserGroupRelatedFinder<ParentOwnerType, ReturnType, AuditedUserGroupList, OwnerType>
+	{
+		public AuditedUserGroupCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditedUserGroupCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditedUserGroupCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedUserGroupCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditedUserGroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditedUserGroupRelatedFinder<ParentOwnerType, ReturnType, AuditedUserGroupList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditedUserGroupSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditedUserGroupSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditedUserGroup other)
+		{
+			return this.ownerId().eq(other.getOwnerId())
+			.and(this.dependentId().eq(other.getDependentId()))
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedUserGroup findByPrimaryKey(int ownerId, int dependentId, int sourceId, Timestamp processingDate)
+		{
+			AuditedUserGroup _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(ownerId);
+				_bean.setI2AsInteger(dependentId);
+				_bean.setI3AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedUserGroup) _related;
+			if (_related == null)
+			{
+				_op = this.ownerId().eq(ownerId).and(this.dependentId().eq(dependentId)).and(this.sourceId().eq(sourceId)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditedUserGroupSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditedUserGroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedUserGroupSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper groupReverseMapper = null;
+	public static Mapper zGetAuditedUserGroupGroupReverseMapper()
+	{
+		if (groupReverseMapper == null)
+		{
+			groupReverseMapper = zConstructAuditedUserGroupGroupReverseMapper();
+		}
+
+		return groupReverseMapper;
+	}
+
+	private static Mapper groupMapper = null;
+	public static Mapper zGetAuditedUserGroupGroupMapper()
+	{
+		if (groupMapper == null)
+		{
+			groupMapper = zConstructAuditedUserGroupGroupMapper();
+		}
+
+		return groupMapper;
+	}
+
+	private static Mapper groupPureReverseMapper = null;
+	public static Mapper zGetAuditedUserGroupGroupPureReverseMapper()
+	{
+		if (groupPureReverseMapper == null)
+		{
+			groupPureReverseMapper = zConstructAuditedUserGroupGroupPureReverseMapper();
+		}
+
+		return groupPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroupGroupPureReverseMapper()
+	{
+		InternalList groupMapperMapperList = new InternalList(3);
+		groupMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		groupMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(2));
+		groupMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper groupMapper = new MultiEqualityMapper(groupMapperMapperList);
+		groupMapper.setName("group");
+		return groupMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroupGroupReverseMapper()
+	{
+		InternalList groupMapperMapperList = new InternalList(3);
+		groupMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(0));
+		groupMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(2));
+		groupMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(4));
+		Mapper groupMapper = new MultiEqualityMapper(groupMapperMapperList);
+		groupMapper.setName("group");
+		return groupMapper;
+	}
+
+	private static Mapper zConstructAuditedUserGroupGroupMapper()
+	{
+		InternalList groupMapperMapperList = new InternalList(3);
+		groupMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(1));
+		groupMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(3));
+		groupMapperMapperList.add(AuditedUserGroupFinder.zGetConstantJoin(5));
+		Mapper groupMapper = new MultiEqualityMapper(groupMapperMapperList);
+		groupMapper.setName("group_Reverse");
+		return groupMapper;
+	}
+
+	/** maps to AUDITED_USER_GROUP.USER_OID **/
+	public static IntegerAttribute<AuditedUserGroup> ownerId()
+	{
+		return finder.ownerId();
+	}
+
+	/** maps to AUDITED_USER_GROUP.GROUP_OID **/
+	public static IntegerAttribute<AuditedUserGroup> dependentId()
+	{
+		return finder.dependentId();
+	}
+
+	/** maps to AUDITED_USER_GROUP.IN_Z **/
+	public static TimestampAttribute<AuditedUserGroup> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDITED_USER_GROUP.OUT_Z **/
+	public static TimestampAttribute<AuditedUserGroup> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static IntegerAttribute<AuditedUserGroup> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	public static AsOfAttribute<AuditedUserGroup> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<AuditedUserGroup, AuditedGroup, AuditedUserGroup> group()
+	{
+		return finder.group();
+	}
+
+	public static class AuditedUserGroupGroupFinderSubclass<ParentOwnerType> extends AuditedGroupFinder.AuditedGroupSingleFinderForRelatedClasses<ParentOwnerType, AuditedGroup, AuditedUserGroup>
+	{
+		public AuditedUserGroupGroupFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "group";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedGroupFinder.id(),
+				AuditedGroupFinder.sourceId(),
+				AuditedGroupFinder.processingDate()).withExtractors(
+				AuditedUserGroupFinder.dependentId(),
+				AuditedUserGroupFinder.sourceId(),
+				AuditedUserGroupFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedUserGroupGroupFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedGroup plainValueOf(AuditedUserGroup _obj)
+		{
+			return _obj.getGroup();
+		}
+
+		protected AuditedGroupList plainListValueOf(Object _obj)
+		{
+			return ((AuditedUserGroupList)_obj).getGroups();
+		}
+	}
+
+	public static Operation eq(AuditedUserGroup other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(ownerId());
+	}
+
+	public static AuditedUserGroupSingleFinder<AuditedUserGroup, Object, AuditedUserGroup> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			ownerId()
+			, dependentId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			ownerId()
+			, ownerId()
+			, dependentId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			ownerId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			dependentId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			dependentId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedUserGroup");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(int sourceId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(sourceId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<Integer> sourceIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceIdSet, listener);
+	}
+}
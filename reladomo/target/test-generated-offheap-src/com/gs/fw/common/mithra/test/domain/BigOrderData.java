@@ -0,0 +1,465 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BigOrderData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private String description;
+	private BigDecimal discountPercentage;
+	private Timestamp orderDate;
+	private int orderId;
+	private int userId;
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isDiscountPercentageNull()
+	{
+		return this.getDiscountPercentage() == null;
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.getOrderDate() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.description);
+		out.writeObject(this.discountPercentage);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.orderDate);
+		out.writeInt(this.orderId);
+		out.writeInt(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, BigOrderFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public BigDecimal getDiscountPercentage()
+	{
+		return this.discountPercentage;
+	}
+
+	public void setDiscountPercentage(BigDecimal value)
+	{
+		this.discountPercentage = value;
+	}
+
+	public void setDiscountPercentageNull()
+	{
+		this.setDiscountPercentage(null);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.orderDate;
+	}
+
+	public long zGetOrderDateAsLong()
+	{
+		if (orderDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return orderDate.getTime();
+	}
+
+	public void setOrderDate(Timestamp value)
+	{
+		this.orderDate = TimestampPool.getInstance().getOrAddToCache(value, BigOrderFinder.isFullCache(), BigOrderFinder.isOffHeap());
+	}
+
+	public void setOrderDateNull()
+	{
+		this.setOrderDate(null);
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.orderId = value;
+	}
+
+	public void setOrderIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getUserId()
+	{
+		return this.userId;
+	}
+
+	public void setUserId(int value)
+	{
+		this.userId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setUserIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(BigOrderData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.description = this.description;
+		copy.discountPercentage = this.discountPercentage;
+		copy.orderDate = this.orderDate;
+		copy.orderId = this.orderId;
+		copy.userId = this.userId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[3];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BigOrderFinder.isFullCache());
+		this.discountPercentage = (BigDecimal)in.readObject();
+		this.orderDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BigOrderFinder.isFullCache(), BigOrderFinder.isOffHeap());
+		this.orderId = in.readInt();
+		this.userId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final BigOrderData otherData = (BigOrderData) other;
+		if (getOrderId() != otherData.getOrderId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.orderId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.orderId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getItems()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setItems(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getNineNineNineItems()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setNineNineNineItems(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public Object getCheapItems()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setCheapItems(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final BigOrderData bigOrderData = (BigOrderData) newData;
+		this.setDescription(bigOrderData.getDescription());
+		this.setDiscountPercentage(bigOrderData.getDiscountPercentage());
+		this.setOrderDate(bigOrderData.getOrderDate());
+		this.setUserId(bigOrderData.getUserId());
+		if (bigOrderData.isUserIdNull()) this.setUserIdNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final BigOrderData other = (BigOrderData) newData;
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isDiscountPercentageNull() ? !getDiscountPercentage().equals(other.getDiscountPercentage()) : !other.isDiscountPercentageNull())
+		{
+			return true;
+		}
+
+		if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+		{
+			return true;
+		}
+
+		if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		BigOrderData copy = new BigOrderData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		BigOrderData copy = new BigOrderData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "orderId: "+(""+getOrderId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.BigOrderData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return BigOrderFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return BigOrderFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.BigOrderData";
+	}
+}
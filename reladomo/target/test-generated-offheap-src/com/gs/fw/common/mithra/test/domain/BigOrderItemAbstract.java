@@ -0,0 +1,612 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class BigOrderItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(BigOrderItem.class.getName());
+	private static final RelationshipHashStrategy forproductInfo = new ProductInfoRhs();
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class ProductInfoRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BigOrderItemData _castedSrcData = (BigOrderItemData) _srcData;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BigOrderItemData _castedSrcData = (BigOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BigOrderItemData _castedSrcData = (BigOrderItemData) _srcData;
+			BigOrderData _castedTargetData = (BigOrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BigOrderItemData _castedSrcData = (BigOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public BigOrderItemAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BigOrderItem getDetachedCopy() throws MithraBusinessException
+	{
+		return (BigOrderItem) super.getDetachedCopy();
+	}
+
+	public BigOrderItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		BigOrderItem result = (BigOrderItem) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public BigOrderItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BigOrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public BigOrderItem zFindOriginal()
+	{
+		BigOrderItemData data = (BigOrderItemData) this.currentData;
+		Operation op;
+		op = BigOrderItemFinder.id().eq(data.getId());
+		return BigOrderItemFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BigOrderItemData();
+	}
+
+	protected void zSetFromBigOrderItemData( BigOrderItemData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromBigOrderItemData( BigOrderItemData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBigPriceNull()
+	{
+		return ((BigOrderItemData) this.zSynchronizedGetData()).isBigPriceNull();
+	}
+
+	public BigDecimal getBigPrice()
+	{
+		BigOrderItemData data = (BigOrderItemData) this.zSynchronizedGetData();
+		return data.getBigPrice();
+	}
+
+	public void setBigPrice(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderItemFinder.bigPrice(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((BigOrderItemData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public BigDecimal getId()
+	{
+		BigOrderItemData data = (BigOrderItemData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderItemFinder.id(), newValue, true, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((BigOrderItemData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		BigOrderItemData data = (BigOrderItemData) this.zSynchronizedGetData();
+		if (data.isOrderIdNull()) MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BigOrderItemFinder.orderId(), newValue, false, false ,true);
+	}
+
+	public boolean isPriceNull()
+	{
+		return ((BigOrderItemData) this.zSynchronizedGetData()).isPriceNull();
+	}
+
+	public BigDecimal getPrice()
+	{
+		BigOrderItemData data = (BigOrderItemData) this.zSynchronizedGetData();
+		return data.getPrice();
+	}
+
+	public void setPrice(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderItemFinder.price(), newValue, false, false );
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((BigOrderItemData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		BigOrderItemData data = (BigOrderItemData) this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BigOrderItemFinder.productId(), newValue, true, false ,true);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((BigOrderItemData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public BigDecimal getQuantity()
+	{
+		BigOrderItemData data = (BigOrderItemData) this.zSynchronizedGetData();
+		return data.getQuantity();
+	}
+
+	public void setQuantity(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderItemFinder.quantity(), newValue, false, false );
+	}
+
+	public boolean isStateNull()
+	{
+		return ((BigOrderItemData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		BigOrderItemData data = (BigOrderItemData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(BigOrderItemFinder.state(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, BigOrderItemFinder.orderId(), false);
+		zNullify(behavior, data, BigOrderItemFinder.productId(), true);
+	}
+
+	public void setOrderIdNull()
+	{
+		zNullify(BigOrderItemFinder.orderId(), false);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(BigOrderItemFinder.productId(), true);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BigOrderItemData _newData = (BigOrderItemData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		BigOrderItemData _newData = (BigOrderItemData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderItemData _newData = (BigOrderItemData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public Product getProductInfo()
+	{
+		Product _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BigOrderItemData _data = (BigOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = ProductFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forproductInfo, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+				if (_related == null)
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = ProductFinder.productId().eq(_data.getProductId());
+					_result = ProductFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Product) _data.getProductInfo();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProductInfo(Product productInfo)
+	{
+		Product _productInfo = (Product) productInfo;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderItemData _data = (BigOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductInfo(_productInfo);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(_productInfo.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BigOrder.orderId</pre>
+	* @see BigOrder#getItems() reverse relationship BigOrder.getItems()
+	* @return The order
+	*/
+	public BigOrder getOrder()
+	{
+		BigOrder _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BigOrderItemData _data = (BigOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = BigOrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (BigOrder) _related;
+				if (_related == null)
+				{
+					_op = BigOrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BigOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = BigOrderFinder.orderId().eq(_data.getOrderId());
+					_result = BigOrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (BigOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BigOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = BigOrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BigOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(BigOrder order)
+	{
+		BigOrder _order = (BigOrder) order;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderItemData _data = (BigOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrder();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((BigOrder)_prev).getItems()).zMarkMoved( (BigOrderItem) this);
+			}
+
+			_data.setOrder(_order);
+			_order.getItems().add( (BigOrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_order == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerorder(BigOrderAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderItemData _data = (BigOrderItemData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public BigOrderItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderItem original = (BigOrderItem) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return BigOrderItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BigOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public BigOrderItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBigDecimal(behavior, data, newData, BigOrderItemFinder.bigPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BigOrderItemFinder.orderId(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BigOrderItemFinder.price(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BigOrderItemFinder.productId(), true);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BigOrderItemFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, BigOrderItemFinder.state(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBigDecimal(behavior, data, newData, BigOrderItemFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		BigOrderItemAbstract result = (BigOrderItemAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,484 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class BigOrderItemDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ORDER_ID,PRODUCT_ID,QUANTITY,ORIGINAL_PRICE,BIG_PRICE,\"STATE\"";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ORDER_ID,t0.PRODUCT_ID,t0.QUANTITY,t0.ORIGINAL_PRICE,t0.BIG_PRICE,t0.\"STATE\"";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected BigOrderItemDatabaseObjectAbstract()
+	{
+		super("BigOrderItem", "com.gs.fw.common.mithra.test.domain.BigOrderItemFinder",
+			7, 7,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BigOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return BigOrderItemFinder.getFinderInstance();
+	}
+
+	public static BigOrderItemData allocateOnHeapData()
+	{
+		return new BigOrderItemData();
+	}
+
+	public static BigOrderItemData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new BigOrderItemData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		BigOrderItemData data = new BigOrderItemData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(BigOrderItemFinder.getPrimaryKeyAttributes(), this, BigOrderItemFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(BigOrderItemFinder.getPrimaryKeyAttributes(), this, BigOrderItemFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(BigOrderItemFinder.getPrimaryKeyAttributes(), this, BigOrderItemFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(BigOrderItemFinder.getPrimaryKeyAttributes(), this, BigOrderItemFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			BigOrderItemFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			BigOrderItemFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			BigOrderItem.zConfigFullTx();
+		}
+		else
+		{
+			BigOrderItem.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBigOrderItemData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkBigOrderItemData(1, (BigOrderItemData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBigOrderItemPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getBigOrderItemTableName();
+	}
+
+	public String getBigOrderItemTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BigOrderItemData data = (BigOrderItemData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setBigDecimal(pos++, data.getId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.ORDER_ID,t0.PRODUCT_ID,t0.QUANTITY,t0.ORIGINAL_PRICE,t0.BIG_PRICE,t0.\"STATE\"";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*7);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("ORDER_ID");
+		result.append(",").append(databaseAlias).append(".").append("PRODUCT_ID");
+		result.append(",").append(databaseAlias).append(".").append("QUANTITY");
+		result.append(",").append(databaseAlias).append(".").append("ORIGINAL_PRICE");
+		result.append(",").append(databaseAlias).append(".").append("BIG_PRICE");
+		result.append(",").append(databaseAlias).append(".").append("\"STATE\"");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public BigOrderItemData inflateBigOrderItemData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		BigOrderItemData data = inflateBigOrderItemPkData(rs, dt);
+		inflateNonPkBigOrderItemData(2, data, rs, dt);
+		return data;
+	}
+
+	public BigOrderItemData inflateBigOrderItemPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		BigOrderItemData _data = new BigOrderItemData();
+		int _pos = 1;
+		_data.setId(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 0));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkBigOrderItemData(int _pos, BigOrderItemData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			BigOrderItemData _data = _datax;
+			_data.setOrderId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOrderIdNull();
+			}
+
+			_data.setProductId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProductIdNull();
+			}
+
+			_data.setQuantity(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 3));
+			_data.setPrice(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 7, 2));
+			_data.setBigPrice(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 38, 20));
+			_data.setState(trimString(_rs.getString(_pos++)));
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "BIG_ORDER_ITEM";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		BigOrderItemData data = (BigOrderItemData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isIdNull())
+		{
+			throwNullAttribute("id");
+		}
+
+		stm.setBigDecimal(pos++, data.getId());
+		if (data.isOrderIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getOrderId());
+		}
+
+		if (data.isProductIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getProductId());
+		}
+
+		if (data.isQuantityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getQuantity());
+		}
+
+		if (data.isPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getPrice());
+		}
+
+		if (data.isBigPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getBigPrice());
+		}
+
+		if (data.isStateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getState());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,ORDER_ID,PRODUCT_ID,QUANTITY,ORIGINAL_PRICE,BIG_PRICE,\"STATE\"";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		BigOrderItem newObject = new BigOrderItem();
+		newObject.zSetFromBigOrderItemData((BigOrderItemData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*7);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ID");
+		return result.toString();
+	}
+}
@@ -0,0 +1,950 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BigOrderItemFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BigOrderItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BigOrderItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BigOrderItem");
+	private static final BigOrderItemSingleFinder<BigOrderItem, Object, BigOrderItem> finder = new BigOrderItemSingleFinder<BigOrderItem, Object, BigOrderItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BigOrderItemFinder.BigOrderItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("price");
+		finderMethodMap.addNormalAttributeName("bigPrice");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addRelationshipName("productInfo");
+		finderMethodMap.addRelationshipName("order");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = BigOrderItemFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			result[1] = ProductFinder.productId().constructEqualityMapper(BigOrderItemFinder.productId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = BigOrderItemFinder.price().eq(9.99);
+			result[1] = BigOrderItemFinder.price().lessThanEquals(9.99);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BigOrderItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BigOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BigOrderItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BigOrderItemList) finder.findMany(operation);
+	}
+
+	public static BigOrderItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BigOrderItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static BigOrderItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BigOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static BigOrderItem findByPrimaryKey(BigDecimal id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BigOrderItemData _castedTargetData = (BigOrderItemData) _targetData;
+			if (_bean.getO1AsBigDecimal().equals(_castedTargetData.getId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsBigDecimal());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsBigDecimal());
+		}
+	}
+
+	public static BigOrderItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BigOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BigOrderItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BigOrderItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private BigDecimalAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private BigDecimalAttribute<ParentOwnerType> quantity;
+		private BigDecimalAttribute<ParentOwnerType> price;
+		private BigDecimalAttribute<ParentOwnerType> bigPrice;
+		private StringAttribute<ParentOwnerType> state;
+		private BigOrderItemProductInfoFinderSubclass<ParentOwnerType> productInfo;
+		private BigOrderItemOrderFinderSubclass<ParentOwnerType> order;
+		public BigOrderItemRelatedFinder()
+		{
+			super();
+		}
+
+		public BigOrderItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BigOrderItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BigOrderItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BigOrderItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BigOrderItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.id();
+			attributes[1] = this.orderId();
+			attributes[2] = this.productId();
+			attributes[3] = this.quantity();
+			attributes[4] = this.price();
+			attributes[5] = this.bigPrice();
+			attributes[6] = this.state();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.productInfo());
+				relatedFinders.add(this.order());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BigOrderItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BigOrderItemFinder.findOne(operation, false);
+		}
+
+		public BigOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BigOrderItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BigOrderItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BigOrderItemList((Operation) operation);
+		}
+
+		public MithraList<? extends BigOrderItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BigOrderItemList result = (BigOrderItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BigOrderItem> constructEmptyList()
+		{
+			return new BigOrderItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -695539592;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> id()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,10,0, false) :
+					new MappedBigDecimalAttribute(BigOrderItemFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BigOrderItemFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "BigOrder", "items");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BigOrderItemFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("productInfo");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> quantity()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,10,3, false) :
+					new MappedBigDecimalAttribute(BigOrderItemFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> price()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.price;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("ORIGINAL_PRICE","","price",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,7,2, false) :
+					new MappedBigDecimalAttribute(BigOrderItemFinder.price(), this.mapper, this.zGetValueSelector());
+				this.price = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> bigPrice()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.bigPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("BIG_PRICE","","bigPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,38,20, false) :
+					new MappedBigDecimalAttribute(BigOrderItemFinder.bigPrice(), this.mapper, this.zGetValueSelector());
+				this.bigPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(BigOrderItemFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, BigOrderItem> productInfo()
+		{
+			BigOrderItemProductInfoFinderSubclass<ParentOwnerType> result = this.productInfo;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BigOrderItemFinder.zGetBigOrderItemProductInfoReverseMapper());
+				newMapper.setToMany(false);
+				result = new BigOrderItemProductInfoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productInfo = result;
+			}
+
+			return result;
+		}
+
+		public BigOrderFinder.BigOrderSingleFinderForRelatedClasses<ParentOwnerType, BigOrder, BigOrderItem> order()
+		{
+			BigOrderItemOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BigOrderFinder.zGetBigOrderItemsMapper());
+				newMapper.setToMany(false);
+				result = new BigOrderItemOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BigOrderItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BigOrderItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BigOrderItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BigOrderItemRelatedFinder<ParentOwnerType, ReturnType, BigOrderItemList, OwnerType>
+	{
+		public BigOrderItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BigOrderItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BigOrderItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BigOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BigOrderItemRelatedFinder<ParentOwnerType, ReturnType, BigOrderItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public BigOrderItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BigOrderItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BigOrderItem other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BigOrderItem findByPrimaryKey(BigDecimal id)
+		{
+			BigOrderItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (id != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BigOrderItem) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BigOrderItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BigOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BigOrderItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productInfoReverseMapper = null;
+	public static Mapper zGetBigOrderItemProductInfoReverseMapper()
+	{
+		if (productInfoReverseMapper == null)
+		{
+			productInfoReverseMapper = zConstructBigOrderItemProductInfoReverseMapper();
+		}
+
+		return productInfoReverseMapper;
+	}
+
+	private static Mapper productInfoMapper = null;
+	public static Mapper zGetBigOrderItemProductInfoMapper()
+	{
+		if (productInfoMapper == null)
+		{
+			productInfoMapper = zConstructBigOrderItemProductInfoMapper();
+		}
+
+		return productInfoMapper;
+	}
+
+	private static Mapper productInfoPureReverseMapper = null;
+	public static Mapper zGetBigOrderItemProductInfoPureReverseMapper()
+	{
+		if (productInfoPureReverseMapper == null)
+		{
+			productInfoPureReverseMapper = zConstructBigOrderItemProductInfoPureReverseMapper();
+		}
+
+		return productInfoPureReverseMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemProductInfoPureReverseMapper()
+	{
+		Mapper productInfoMapper = BigOrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemProductInfoReverseMapper()
+	{
+		Mapper productInfoMapper = BigOrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemProductInfoMapper()
+	{
+		Mapper productInfoMapper = BigOrderItemFinder.zGetConstantJoin(1);
+		productInfoMapper.setName("productInfo_Reverse");
+		return productInfoMapper;
+	}
+
+	/** maps to BIG_ORDER_ITEM.ID **/
+	public static BigDecimalAttribute<BigOrderItem> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to BIG_ORDER_ITEM.ORDER_ID **/
+	public static IntegerAttribute<BigOrderItem> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BIG_ORDER_ITEM.PRODUCT_ID **/
+	public static IntegerAttribute<BigOrderItem> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to BIG_ORDER_ITEM.QUANTITY **/
+	public static BigDecimalAttribute<BigOrderItem> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to BIG_ORDER_ITEM.ORIGINAL_PRICE **/
+	public static BigDecimalAttribute<BigOrderItem> price()
+	{
+		return finder.price();
+	}
+
+	/** maps to BIG_ORDER_ITEM.BIG_PRICE **/
+	public static BigDecimalAttribute<BigOrderItem> bigPrice()
+	{
+		return finder.bigPrice();
+	}
+
+	/** maps to BIG_ORDER_ITEM."STATE" **/
+	public static StringAttribute<BigOrderItem> state()
+	{
+		return finder.state();
+	}
+
+	public static ProductFinder.ProductSingleFinderForRelatedClasses<BigOrderItem, Product, BigOrderItem> productInfo()
+	{
+		return finder.productInfo();
+	}
+
+	public static class BigOrderItemProductInfoFinderSubclass<ParentOwnerType> extends ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, BigOrderItem>
+	{
+		public BigOrderItemProductInfoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productInfo";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BigOrderItemProductInfoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Product plainValueOf(BigOrderItem _obj)
+		{
+			return _obj.getProductInfo();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((BigOrderItemList)_obj).getProductInfos();
+		}
+	}
+
+	public static BigOrderFinder.BigOrderSingleFinderForRelatedClasses<BigOrderItem, BigOrder, BigOrderItem> order()
+	{
+		return finder.order();
+	}
+
+	public static class BigOrderItemOrderFinderSubclass<ParentOwnerType> extends BigOrderFinder.BigOrderSingleFinderForRelatedClasses<ParentOwnerType, BigOrder, BigOrderItem>
+	{
+		public BigOrderItemOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BigOrderItemOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BigOrder plainValueOf(BigOrderItem _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected BigOrderList plainListValueOf(Object _obj)
+		{
+			return ((BigOrderItemList)_obj).getOrders();
+		}
+	}
+
+	public static Operation eq(BigOrderItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static BigOrderItemSingleFinder<BigOrderItem, Object, BigOrderItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			orderId()
+			, price()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			bigPrice()
+			, orderId()
+		}
+
+		);
+		cache.addIndex("3 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			BigOrderFinder.getFinderInstance(),ProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			BigOrderFinder.getFinderInstance(),ProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[4];
+		result[0] = id();
+		result[1] = quantity();
+		result[2] = price();
+		result[3] = bigPrice();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BigOrderItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,224 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BigOrderListAbstract extends DelegatingList<BigOrder> implements MithraTransactionalList<BigOrder>
+{
+	public BigOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BigOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BigOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BigOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BigOrder[] elements()
+	{
+		BigOrder[] result = new BigOrder[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BigOrderList intersection(BigOrderList another)
+	{
+		return (BigOrderList)super.intersection(another);
+	}
+
+	public BigOrder getBigOrderAt(int index)
+	{
+		return (BigOrder)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId</pre>
+	* @see BigOrderItem#getOrder() reverse relationship BigOrderItem.getOrder()
+	* @return items
+	*/
+	public BigOrderItemList getItems()
+	{
+		return (BigOrderItemList) this.zGetDelegated().resolveRelationship(this, BigOrderFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId and BigOrderItem.price = 9.99</pre>
+	* @return nine nine nine items
+	*/
+	public BigOrderItemList getNineNineNineItems()
+	{
+		return (BigOrderItemList) this.zGetDelegated().resolveRelationship(this, BigOrderFinder.nineNineNineItems());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId and BigOrderItem.price <= 9.99</pre>
+	* @return cheap items
+	*/
+	public BigOrderItemList getCheapItems()
+	{
+		return (BigOrderItemList) this.zGetDelegated().resolveRelationship(this, BigOrderFinder.cheapItems());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId
+	and BigOrderItem.price = {price}</pre>
+	* @return items by price
+	*/
+	public BigOrderItemList getItemsByPrice(BigDecimal price)
+	{
+		return (BigOrderItemList) this.zGetDelegated().resolveRelationship(this, BigOrderFinder.itemsByPrice(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId
+	and BigOrderItem.price = {price}</pre>
+	* @return items by double price
+	*/
+	public BigOrderItemList getItemsByDoublePrice(double price)
+	{
+		return (BigOrderItemList) this.zGetDelegated().resolveRelationship(this, BigOrderFinder.itemsByDoublePrice(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId
+	and BigOrderItem.bigPrice in {prices}</pre>
+	* @return items for product price set
+	*/
+	public BigOrderItemList getItemsForProductPriceSet(Set prices)
+	{
+		return (BigOrderItemList) this.zGetDelegated().resolveRelationship(this, BigOrderFinder.itemsForProductPriceSet(prices));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BigOrderFinder.getMithraObjectPortal();
+	}
+
+	public BigOrderList getNonPersistentCopy()
+	{
+		BigOrderList result = new BigOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BigOrderList asAdhoc()
+	{
+		return (BigOrderList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BigOrder> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BigOrderList merge(MithraTransactionalList<BigOrder> incoming, TopLevelMergeOptions<BigOrder> mergeOptions)
+	{
+		return (BigOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public BigOrderList getDetachedCopy()
+	{
+		BigOrderList result = new BigOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BigOrderFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BigOrderFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BigOrderFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(BigOrderFinder.description(), newValue);
+	}
+
+	public void setDiscountPercentage(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderFinder.discountPercentage(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(BigOrderFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getItems()).cascadeDeleteAll();
+	}
+}
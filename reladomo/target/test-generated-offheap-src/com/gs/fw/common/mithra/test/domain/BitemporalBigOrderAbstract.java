@@ -0,0 +1,1137 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalBigOrderAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalBigOrderFinder.businessDate()
+	,
+		BitemporalBigOrderFinder.processingDate()
+	, BitemporalBigOrderFinder.zGetDoubleAttributes(),BitemporalBigOrderFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalBigOrder.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForRead(this);
+		BitemporalBigOrderItemList items =
+		(BitemporalBigOrderItemList) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public BitemporalBigOrderAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalBigOrderFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalBigOrderFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalBigOrderAbstract(Timestamp businessDate)
+	{
+		this(businessDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalBigOrderData zSynchronizedGetData()
+	{
+		return (BitemporalBigOrderData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalBigOrderFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalBigOrderFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForWrite(this);
+		BitemporalBigOrderItemList items =
+		(BitemporalBigOrderItemList ) _data.getItems();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		BitemporalBigOrderFinder.BitemporalBigOrderRelatedFinder parentFinder = (BitemporalBigOrderFinder.BitemporalBigOrderRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderData _newData = (BitemporalBigOrderData) _behavior.getCurrentDataForWrite(this);
+		{
+			BitemporalBigOrderItemList items =
+			(BitemporalBigOrderItemList) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public BitemporalBigOrder zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForWrite(this);
+		BitemporalBigOrderItemList items =
+		(BitemporalBigOrderItemList ) _data.getItems();
+		BitemporalBigOrder original = (BitemporalBigOrder) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getItems().cascadeInsertAllUntil(exclusiveUntil);
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalBigOrder copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalBigOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalBigOrder copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalBigOrder) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalBigOrderFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalBigOrder getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalBigOrderAbstract result = (BitemporalBigOrderAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalBigOrder ) result;
+	}
+
+	public BitemporalBigOrder zFindOriginal()
+	{
+		BitemporalBigOrderData data = (BitemporalBigOrderData) this.currentData;
+		Operation op;
+		op = BitemporalBigOrderFinder.orderId().eq(data.getOrderId());
+		op = op.and(BitemporalBigOrderFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalBigOrderFinder.processingDate().eq(this.getProcessingDate()));
+		return BitemporalBigOrderFinder.findOne(op);
+	}
+
+	public BitemporalBigOrder getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalBigOrderAbstract result = (BitemporalBigOrderAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalBigOrder ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalBigOrder copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalBigOrder) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalBigOrder copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalBigOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalBigOrderData data = (BitemporalBigOrderData) this.currentData;
+			Operation op = BitemporalBigOrderFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalBigOrderFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalBigOrderFinder.orderId().eq(data.getOrderId()));
+			return BitemporalBigOrderFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalBigOrderData data = (BitemporalBigOrderData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalBigOrderFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalBigOrderData data = (BitemporalBigOrderData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isDescriptionNull();
+	}
+
+	public boolean isDiscountPercentageNull()
+	{
+		return this.zSynchronizedGetData().isDiscountPercentageNull();
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.zSynchronizedGetData().isOrderDateNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zSynchronizedGetData().isUserIdNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getDescription()
+	{
+		return this.zSynchronizedGetData().getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(BitemporalBigOrderFinder.description(), newValue, false );
+	}
+
+	public void setDescriptionUsingInPlaceUpdate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		BitemporalBigOrderData data;
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		data = (BitemporalBigOrderData) behavior.getCurrentDataForRead(this);
+		String current = data.getDescription();
+		if (current == null)
+		{
+			if (newValue == null) return;
+		}
+		else
+		{
+			if (current.equals(newValue)) return;
+		}
+
+		AttributeUpdateWrapper updateWrapper =
+		new StringUpdateWrapper(
+			BitemporalBigOrderFinder.description(),
+			behavior.getCurrentDataForWrite(this),
+			newValue);
+		behavior.inPlaceUpdate(this, updateWrapper, false);
+	}
+
+	public void setDescriptionUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(BitemporalBigOrderFinder.description(), newValue, false , exclusiveUntil);
+	}
+
+	public BigDecimal getDiscountPercentage()
+	{
+		return this.zSynchronizedGetData().getDiscountPercentage();
+	}
+
+	public void setDiscountPercentage(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderFinder.discountPercentage(), newValue, false );
+	}
+
+	public void setDiscountPercentageUntil(BigDecimal newValue, Timestamp exclusiveUntil)
+	{
+		zSetBigDecimal(BitemporalBigOrderFinder.discountPercentage(), newValue, false , exclusiveUntil);
+	}
+
+	public void incrementDiscountPercentage(BigDecimal increment)
+	{
+		zIncrement(increment, BitemporalBigOrderFinder.discountPercentage(), false);
+	}
+
+	public void incrementDiscountPercentageUntil(BigDecimal increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalBigOrderFinder.discountPercentage(), false);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.zSynchronizedGetData().getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.orderDate(), newValue, false );
+	}
+
+	public void setOrderDateUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.orderDate(), newValue, false , exclusiveUntil);
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(BitemporalBigOrderFinder.orderId(), newValue, true ,false);
+		if (d == null) return;
+		BitemporalBigOrderData data = (BitemporalBigOrderData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			BitemporalBigOrderItemList items =
+			(BitemporalBigOrderItemList) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+		}
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetInteger(BitemporalBigOrderFinder.orderId(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		BitemporalBigOrderData data = (BitemporalBigOrderData) d;
+		BitemporalBigOrderItemList items =
+		(BitemporalBigOrderItemList) data.getItems();
+		if (items != null)
+		{
+			items.setOrderId(newValue);
+		}
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getUserId()
+	{
+		BitemporalBigOrderData data = this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BitemporalBigOrderFinder.userId(), newValue, false ,true);
+	}
+
+	public void setUserIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalBigOrderFinder.userId(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BitemporalBigOrderFinder.userId(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalBigOrderData data2 = (BitemporalBigOrderData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalBigOrderFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(BitemporalBigOrderFinder.userId(), false);
+	}
+
+	public void setUserIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalBigOrderFinder.userId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		behavior.cascadeUpdateInPlaceBeforeTerminate(this);
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate(MithraDataObject _data)
+	{
+		BitemporalBigOrderData _newData = (BitemporalBigOrderData) _data;
+		this.setDescriptionUsingInPlaceUpdate(_newData.getDescription());
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalBigOrderData _newData = (BitemporalBigOrderData) _data;
+		{
+			BitemporalBigOrderItemList items =
+			(BitemporalBigOrderItemList) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalBigOrderData _newData = (BitemporalBigOrderData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BitemporalBigOrderItemList)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalBigOrderData _newData = (BitemporalBigOrderData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BitemporalBigOrderItemList)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId</pre>
+	* @see BitemporalBigOrderItem#getOrder() reverse relationship BitemporalBigOrderItem.getOrder()
+	* @return items
+	*/
+	public BitemporalBigOrderItemList getItems()
+	{
+		BitemporalBigOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalBigOrderFinder.items().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (BitemporalBigOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalBigOrderFinder.items().zGetRelationshipMultiExtractor(), this);
+					_result = new BitemporalBigOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalBigOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalBigOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				_result = new BitemporalBigOrderItemList();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalBigOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalBigOrderItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(BitemporalBigOrderItemList items)
+	{
+		BitemporalBigOrderItemList _items = (BitemporalBigOrderItemList) items;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(new RelationshipMultiEqualityOperation(BitemporalBigOrderFinder.items().zGetRelationshipMultiExtractor(), this),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			BitemporalBigOrderItemList itemsToDelete = new BitemporalBigOrderItemList();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				BitemporalBigOrderItem item = _items.getBitemporalBigOrderItemAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId and BitemporalBigOrderItem.price = 9.99</pre>
+	* @return nine nine nine items
+	*/
+	public BitemporalBigOrderItemList getNineNineNineItems()
+	{
+		BitemporalBigOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalBigOrderFinder.nineNineNineItems().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalBigOrderFinder.nineNineNineItems().zGetRelationshipMultiExtractor(), this);
+					_result = new BitemporalBigOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalBigOrderItemList) _data.getNineNineNineItems();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalBigOrderFinder.nineNineNineItems().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalBigOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setNineNineNineItems(BitemporalBigOrderItemList nineNineNineItems)
+	{
+		BitemporalBigOrderItemList _nineNineNineItems = (BitemporalBigOrderItemList) nineNineNineItems;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setNineNineNineItems(_nineNineNineItems);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId and BitemporalBigOrderItem.price <= 9.99</pre>
+	* @return cheap items
+	*/
+	public BitemporalBigOrderItemList getCheapItems()
+	{
+		BitemporalBigOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = BitemporalBigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BitemporalBigOrderItemFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalBigOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalBigOrderItemFinder.zGetConstantOperation(1));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = BitemporalBigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BitemporalBigOrderItemFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalBigOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalBigOrderItemFinder.zGetConstantOperation(1));
+					_result = new BitemporalBigOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalBigOrderItemList) _data.getCheapItems();
+			if (_result == null)
+			{
+				{
+					_op = BitemporalBigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BitemporalBigOrderItemFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalBigOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalBigOrderItemFinder.zGetConstantOperation(1));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalBigOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setCheapItems(BitemporalBigOrderItemList cheapItems)
+	{
+		BitemporalBigOrderItemList _cheapItems = (BitemporalBigOrderItemList) cheapItems;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setCheapItems(_cheapItems);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId
+	and BitemporalBigOrderItem.price = {price}</pre>
+	* @return items by price
+	*/
+	public BitemporalBigOrderItemList getItemsByPrice(BigDecimal price)
+	{
+		BitemporalBigOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalBigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BitemporalBigOrderItemFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalBigOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalBigOrderItemFinder.price().eq(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalBigOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId
+	and BitemporalBigOrderItem.price = {price}</pre>
+	* @return items by double price
+	*/
+	public BitemporalBigOrderItemList getItemsByDoublePrice(double price)
+	{
+		BitemporalBigOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalBigOrderData _data = (BitemporalBigOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalBigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BitemporalBigOrderItemFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalBigOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalBigOrderItemFinder.price().eq(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalBigOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalBigOrderFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalBigOrderData();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalBigOrderData data = (BitemporalBigOrderData) BitemporalBigOrderFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalBigOrder has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalBigOrderData( BitemporalBigOrderData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalBigOrderData( BitemporalBigOrderData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalBigOrderFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalBigOrderFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalBigOrder getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalBigOrderAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalBigOrderAbstract from = (BitemporalBigOrderAbstract) f;
+		BitemporalBigOrderData newData = from.zSynchronizedGetData();
+		this.setDescription(newData.getDescription());
+		this.setDiscountPercentage(newData.getDiscountPercentage());
+		this.setOrderDate(newData.getOrderDate());
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNull();
+		}
+		else
+		{
+			this.setUserId(newData.getUserId());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalBigOrderData _newData = (BitemporalBigOrderData) _data;
+		BitemporalBigOrderItemList items =
+		(BitemporalBigOrderItemList) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalBigOrderData _newData = (BitemporalBigOrderData) _data;
+		BitemporalBigOrderItemList items =
+		(BitemporalBigOrderItemList) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalBigOrderAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalBigOrderAbstract from = (BitemporalBigOrderAbstract)f;
+		BitemporalBigOrderData newData = from.zSynchronizedGetData();
+		this.setDescriptionUntil(newData.getDescription(), exclusiveUntil);
+		this.setDiscountPercentageUntil(newData.getDiscountPercentage(), exclusiveUntil);
+		this.setOrderDateUntil(newData.getOrderDate(), exclusiveUntil);
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setUserIdUntil(newData.getUserId(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalBigOrderData newData = (BitemporalBigOrderData) d;
+		BitemporalBigOrderData data = (BitemporalBigOrderData) nd;
+		if (BitemporalBigOrderFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalBigOrderFinder.description(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderFinder.discountPercentage(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalBigOrderFinder.orderDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalBigOrderFinder.orderId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalBigOrderFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalBigOrderFinder.description(), false, until);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderFinder.discountPercentage(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalBigOrderFinder.orderDate(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalBigOrderFinder.orderId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalBigOrderFinder.userId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getItems().cascadeTerminateAll();
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getItems().cascadeTerminateAllUntil(exclusiveUntil);
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalBigOrderData data = ((BitemporalBigOrderData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalBigOrderData data = ((BitemporalBigOrderData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalBigOrderData data = ((BitemporalBigOrderData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalBigOrderFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalBigOrderFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalBigOrderData localData = (BitemporalBigOrderData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalBigOrderItem item = (BitemporalBigOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(BitemporalBigOrderAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalBigOrderItem item = (BitemporalBigOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
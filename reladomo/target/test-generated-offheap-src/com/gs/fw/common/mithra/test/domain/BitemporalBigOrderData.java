@@ -0,0 +1,641 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalBigOrderData
+implements MithraDataObject
+{
+	private byte _dataVersion;
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private Timestamp businessDateFrom;
+	private Timestamp businessDateTo;
+	private String description;
+	private BigDecimal discountPercentage;
+	private Timestamp orderDate;
+	private int orderId;
+	private Timestamp processingDateFrom;
+	private Timestamp processingDateTo;
+	private int userId;
+	public boolean isBusinessDateFromNull()
+	{
+		return this.getBusinessDateFrom() == null;
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.getBusinessDateTo() == null;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isDiscountPercentageNull()
+	{
+		return this.getDiscountPercentage() == null;
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.getOrderDate() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return false;
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.getProcessingDateFrom() == null;
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.getProcessingDateTo() == null;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalBigOrderFinder.businessDate().getInfinityDate());
+		out.writeObject(this.description);
+		out.writeObject(this.discountPercentage);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.orderDate);
+		out.writeInt(this.orderId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalBigOrderFinder.processingDate().getInfinityDate());
+		out.writeInt(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.businessDateFrom;
+	}
+
+	public long zGetBusinessDateFromAsLong()
+	{
+		if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDateFrom.getTime();
+	}
+
+	public void setBusinessDateFrom(Timestamp value)
+	{
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+	}
+
+	public void setBusinessDateFromNull()
+	{
+		this.setBusinessDateFrom(null);
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.businessDateTo;
+	}
+
+	public long zGetBusinessDateToAsLong()
+	{
+		if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDateTo.getTime();
+	}
+
+	public void setBusinessDateTo(Timestamp value)
+	{
+		if (!value.equals(this.businessDateTo))
+		{
+			zIncrementDataVersion();
+		}
+
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+	}
+
+	public void setBusinessDateToNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, BitemporalBigOrderFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public BigDecimal getDiscountPercentage()
+	{
+		return this.discountPercentage;
+	}
+
+	public void setDiscountPercentage(BigDecimal value)
+	{
+		this.discountPercentage = value;
+	}
+
+	public void setDiscountPercentageNull()
+	{
+		this.setDiscountPercentage(null);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.orderDate;
+	}
+
+	public long zGetOrderDateAsLong()
+	{
+		if (orderDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return orderDate.getTime();
+	}
+
+	public void setOrderDate(Timestamp value)
+	{
+		this.orderDate = TimestampPool.getInstance().getOrAddToCache(value, BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+	}
+
+	public void setOrderDateNull()
+	{
+		this.setOrderDate(null);
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.orderId = value;
+	}
+
+	public void setOrderIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.processingDateFrom;
+	}
+
+	public long zGetProcessingDateFromAsLong()
+	{
+		if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+		return processingDateFrom.getTime();
+	}
+
+	public void setProcessingDateFrom(Timestamp value)
+	{
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+	}
+
+	public void setProcessingDateFromNull()
+	{
+		this.setProcessingDateFrom(null);
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.processingDateTo;
+	}
+
+	public long zGetProcessingDateToAsLong()
+	{
+		if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+		return processingDateTo.getTime();
+	}
+
+	public void setProcessingDateTo(Timestamp value)
+	{
+		if (!value.equals(this.processingDateTo))
+		{
+			zIncrementDataVersion();
+		}
+
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+	}
+
+	public void setProcessingDateToNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getUserId()
+	{
+		return this.userId;
+	}
+
+	public void setUserId(int value)
+	{
+		this.userId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setUserIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return _dataVersion; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+		this._dataVersion = version; 
+	}
+
+	public void zIncrementDataVersion()
+	{
+		_dataVersion++;
+		if (_dataVersion > 120) _dataVersion = (byte) 0;
+	}
+
+	protected void copyInto(BitemporalBigOrderData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.businessDateFrom = this.businessDateFrom;
+		copy.businessDateTo = this.businessDateTo;
+		copy.description = this.description;
+		copy.discountPercentage = this.discountPercentage;
+		copy.orderDate = this.orderDate;
+		copy.orderId = this.orderId;
+		copy.processingDateFrom = this.processingDateFrom;
+		copy.processingDateTo = this.processingDateTo;
+		copy.userId = this.userId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[3];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalBigOrderFinder.businessDate().getInfinityDate()), BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BitemporalBigOrderFinder.isFullCache());
+		this.discountPercentage = (BigDecimal)in.readObject();
+		this.orderDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+		this.orderId = in.readInt();
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalBigOrderFinder.processingDate().getInfinityDate()), BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+		this.userId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final BitemporalBigOrderData otherData = (BitemporalBigOrderData) other;
+		if (getOrderId() != otherData.getOrderId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalBigOrderFinder.businessDate().getInfinityDate());
+		out.writeInt(this.orderId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalBigOrderFinder.processingDate().getInfinityDate());
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalBigOrderFinder.businessDate().getInfinityDate()), BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+		this.orderId = in.readInt();
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalBigOrderFinder.processingDate().getInfinityDate()), BitemporalBigOrderFinder.isFullCache(), BitemporalBigOrderFinder.isOffHeap());
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getItems()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setItems(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getNineNineNineItems()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setNineNineNineItems(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public Object getCheapItems()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setCheapItems(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final BitemporalBigOrderData bitemporalBigOrderData = (BitemporalBigOrderData) newData;
+		this.setBusinessDateFrom(bitemporalBigOrderData.getBusinessDateFrom());
+		this.setBusinessDateTo(bitemporalBigOrderData.getBusinessDateTo());
+		this.setDescription(bitemporalBigOrderData.getDescription());
+		this.setDiscountPercentage(bitemporalBigOrderData.getDiscountPercentage());
+		this.setOrderDate(bitemporalBigOrderData.getOrderDate());
+		this.setProcessingDateFrom(bitemporalBigOrderData.getProcessingDateFrom());
+		this.setProcessingDateTo(bitemporalBigOrderData.getProcessingDateTo());
+		this.setUserId(bitemporalBigOrderData.getUserId());
+		if (bitemporalBigOrderData.isUserIdNull()) this.setUserIdNull();
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final BitemporalBigOrderData other = (BitemporalBigOrderData) newData;
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isDiscountPercentageNull() ? !getDiscountPercentage().equals(other.getDiscountPercentage()) : !other.isDiscountPercentageNull())
+		{
+			return true;
+		}
+
+		if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+		{
+			return true;
+		}
+
+		if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		BitemporalBigOrderData copy = new BitemporalBigOrderData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		BitemporalBigOrderData copy = new BitemporalBigOrderData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+		result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+		result += "orderId: "+(""+getOrderId())+ " / ";
+		result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+		result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		boolean result = true;
+		BitemporalBigOrderData otherData = (BitemporalBigOrderData) other;
+		result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+		result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+		return result;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		BitemporalBigOrderData otherData = (BitemporalBigOrderData) other;
+		if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+		{
+			return true;
+		}
+
+		if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+		{
+			return true;
+		}
+
+		if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+		{
+			return true;
+		}
+
+		if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.BitemporalBigOrderData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return BitemporalBigOrderFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return BitemporalBigOrderFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.BitemporalBigOrderData";
+	}
+}
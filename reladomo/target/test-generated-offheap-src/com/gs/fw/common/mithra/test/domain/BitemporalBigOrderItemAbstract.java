@@ -0,0 +1,1053 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalBigOrderItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalBigOrderItemFinder.businessDate()
+	,
+		BitemporalBigOrderItemFinder.processingDate()
+	, BitemporalBigOrderItemFinder.zGetDoubleAttributes(),BitemporalBigOrderItemFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalBigOrderItem.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forproductInfo = new ProductInfoRhs();
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class ProductInfoRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalBigOrderItemData _castedSrcData = (BitemporalBigOrderItemData) _srcData;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalBigOrderItemData _castedSrcData = (BitemporalBigOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalBigOrderFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalBigOrderFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalBigOrderItem _castedSrcObject = (BitemporalBigOrderItem) _srcObject;
+			BitemporalBigOrderItemData _castedSrcData = (BitemporalBigOrderItemData) _srcData;
+			BitemporalBigOrderData _castedTargetData = (BitemporalBigOrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalBigOrderItemData _castedSrcData = (BitemporalBigOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public BitemporalBigOrderItemAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalBigOrderItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalBigOrderItemFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalBigOrderItemAbstract(Timestamp businessDate)
+	{
+		this(businessDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalBigOrderItemData zSynchronizedGetData()
+	{
+		return (BitemporalBigOrderItemData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalBigOrderItemFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalBigOrderItemFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public BitemporalBigOrderItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderItem original = (BitemporalBigOrderItem) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalBigOrderItem copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalBigOrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalBigOrderItem copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalBigOrderItem) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalBigOrderItemFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalBigOrderItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalBigOrderItemAbstract result = (BitemporalBigOrderItemAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalBigOrderItem ) result;
+	}
+
+	public BitemporalBigOrderItem zFindOriginal()
+	{
+		BitemporalBigOrderItemData data = (BitemporalBigOrderItemData) this.currentData;
+		Operation op;
+		op = BitemporalBigOrderItemFinder.id().eq(data.getId());
+		op = op.and(BitemporalBigOrderItemFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalBigOrderItemFinder.processingDate().eq(this.getProcessingDate()));
+		return BitemporalBigOrderItemFinder.findOne(op);
+	}
+
+	public BitemporalBigOrderItem getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalBigOrderItemAbstract result = (BitemporalBigOrderItemAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalBigOrderItem ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalBigOrderItem copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalBigOrderItem) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalBigOrderItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalBigOrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalBigOrderItemData data = (BitemporalBigOrderItemData) this.currentData;
+			Operation op = BitemporalBigOrderItemFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalBigOrderItemFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalBigOrderItemFinder.id().eq(data.getId()));
+			return BitemporalBigOrderItemFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalBigOrderItemData data = (BitemporalBigOrderItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalBigOrderItemFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalBigOrderItemData data = (BitemporalBigOrderItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBigPriceNull()
+	{
+		return this.zSynchronizedGetData().isBigPriceNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isPriceNull()
+	{
+		return this.zSynchronizedGetData().isPriceNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public BigDecimal getBigPrice()
+	{
+		return this.zSynchronizedGetData().getBigPrice();
+	}
+
+	public void setBigPrice(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.bigPrice(), newValue, false );
+	}
+
+	public void setBigPriceUntil(BigDecimal newValue, Timestamp exclusiveUntil)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.bigPrice(), newValue, false , exclusiveUntil);
+	}
+
+	public void incrementBigPrice(BigDecimal increment)
+	{
+		zIncrement(increment, BitemporalBigOrderItemFinder.bigPrice(), false);
+	}
+
+	public void incrementBigPriceUntil(BigDecimal increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalBigOrderItemFinder.bigPrice(), false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderItemFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderItemFinder.businessDateTo(), newValue, false );
+	}
+
+	public BigDecimal getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.id(), newValue, true );
+	}
+
+	public void setIdUntil(BigDecimal newValue, Timestamp exclusiveUntil)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.id(), newValue, true , exclusiveUntil);
+	}
+
+	public void incrementId(BigDecimal increment)
+	{
+		zIncrement(increment, BitemporalBigOrderItemFinder.id(), true);
+	}
+
+	public void incrementIdUntil(BigDecimal increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalBigOrderItemFinder.id(), true);
+	}
+
+	public int getOrderId()
+	{
+		BitemporalBigOrderItemData data = this.zSynchronizedGetData();
+		if (data.isOrderIdNull()) MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalBigOrderItemFinder.orderId(), newValue, false ,true);
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalBigOrderItemFinder.orderId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public BigDecimal getPrice()
+	{
+		return this.zSynchronizedGetData().getPrice();
+	}
+
+	public void setPrice(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.price(), newValue, false );
+	}
+
+	public void setPriceUntil(BigDecimal newValue, Timestamp exclusiveUntil)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.price(), newValue, false , exclusiveUntil);
+	}
+
+	public void incrementPrice(BigDecimal increment)
+	{
+		zIncrement(increment, BitemporalBigOrderItemFinder.price(), false);
+	}
+
+	public void incrementPriceUntil(BigDecimal increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalBigOrderItemFinder.price(), false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderItemFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderItemFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		BitemporalBigOrderItemData data = this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BitemporalBigOrderItemFinder.productId(), newValue, true ,true);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalBigOrderItemFinder.productId(), newValue, true , exclusiveUntil,true);
+	}
+
+	public BigDecimal getQuantity()
+	{
+		return this.zSynchronizedGetData().getQuantity();
+	}
+
+	public void setQuantity(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.quantity(), newValue, false );
+	}
+
+	public void setQuantityUntil(BigDecimal newValue, Timestamp exclusiveUntil)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.quantity(), newValue, false , exclusiveUntil);
+	}
+
+	public void incrementQuantity(BigDecimal increment)
+	{
+		zIncrement(increment, BitemporalBigOrderItemFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(BigDecimal increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalBigOrderItemFinder.quantity(), false);
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalBigOrderItemFinder.state(), newValue, false );
+	}
+
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalBigOrderItemFinder.state(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BitemporalBigOrderItemFinder.orderId(), false, mustCheckCurrent);
+		zNullify(behavior, data, BitemporalBigOrderItemFinder.productId(), true, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalBigOrderItemData data2 = (BitemporalBigOrderItemData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalBigOrderItemFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setOrderIdNull()
+	{
+		zNullify(BitemporalBigOrderItemFinder.orderId(), false);
+	}
+
+	public void setOrderIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalBigOrderItemFinder.orderId(), false, exclusiveUntil);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(BitemporalBigOrderItemFinder.productId(), false);
+	}
+
+	public void setProductIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalBigOrderItemFinder.productId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalBigOrderItemData _newData = (BitemporalBigOrderItemData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalBigOrderItemData _newData = (BitemporalBigOrderItemData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalBigOrderItemData _newData = (BitemporalBigOrderItemData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public Product getProductInfo()
+	{
+		Product _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalBigOrderItemData _data = (BitemporalBigOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = ProductFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forproductInfo, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+				if (_related == null)
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = ProductFinder.productId().eq(_data.getProductId());
+					_result = ProductFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Product) _data.getProductInfo();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProductInfo(Product productInfo)
+	{
+		Product _productInfo = (Product) productInfo;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderItemData _data = (BitemporalBigOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductInfo(_productInfo);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalBigOrder.orderId</pre>
+	* @see BitemporalBigOrder#getItems() reverse relationship BitemporalBigOrder.getItems()
+	* @return The order
+	*/
+	public BitemporalBigOrder getOrder()
+	{
+		BitemporalBigOrder _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalBigOrderItemData _data = (BitemporalBigOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = BitemporalBigOrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalBigOrder) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalBigOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BitemporalBigOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalBigOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalBigOrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalBigOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalBigOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalBigOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalBigOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(BitemporalBigOrder order)
+	{
+		BitemporalBigOrder _order = (BitemporalBigOrder) order;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderItemData _data = (BitemporalBigOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrder();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((BitemporalBigOrder)_prev).getItems()).zMarkMoved( (BitemporalBigOrderItem) this);
+			}
+
+			_data.setOrder(_order);
+			_order.getItems().add((BitemporalBigOrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_order == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerorder(BitemporalBigOrderAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalBigOrderItemData _data = (BitemporalBigOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalBigOrderItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalBigOrderItemData();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalBigOrderItemData data = (BitemporalBigOrderItemData) BitemporalBigOrderItemFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalBigOrderItem has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalBigOrderItemData( BitemporalBigOrderItemData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalBigOrderItemData( BitemporalBigOrderItemData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalBigOrderItemFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalBigOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalBigOrderItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalBigOrderItemAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalBigOrderItemAbstract from = (BitemporalBigOrderItemAbstract) f;
+		BitemporalBigOrderItemData newData = from.zSynchronizedGetData();
+		this.setBigPrice(newData.getBigPrice());
+		if (from.isOrderIdNull())
+		{
+			this.setOrderIdNull();
+		}
+		else
+		{
+			this.setOrderId(newData.getOrderId());
+		}
+
+		this.setPrice(newData.getPrice());
+		if (from.isProductIdNull())
+		{
+			this.setProductIdNull();
+		}
+		else
+		{
+			this.setProductId(newData.getProductId());
+		}
+
+		this.setQuantity(newData.getQuantity());
+		this.setState(newData.getState());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalBigOrderItemData _newData = (BitemporalBigOrderItemData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalBigOrderItemData _newData = (BitemporalBigOrderItemData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalBigOrderItemAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalBigOrderItemAbstract from = (BitemporalBigOrderItemAbstract)f;
+		BitemporalBigOrderItemData newData = from.zSynchronizedGetData();
+		this.setBigPriceUntil(newData.getBigPrice(), exclusiveUntil);
+		if (from.isOrderIdNull())
+		{
+			this.setOrderIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setOrderIdUntil(newData.getOrderId(), exclusiveUntil);
+		}
+
+		this.setPriceUntil(newData.getPrice(), exclusiveUntil);
+		if (from.isProductIdNull())
+		{
+			this.setProductIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setProductIdUntil(newData.getProductId(), exclusiveUntil);
+		}
+
+		this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		this.setStateUntil(newData.getState(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalBigOrderItemData newData = (BitemporalBigOrderItemData) d;
+		BitemporalBigOrderItemData data = (BitemporalBigOrderItemData) nd;
+		if (BitemporalBigOrderItemFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderItemFinder.bigPrice(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderItemFinder.id(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalBigOrderItemFinder.orderId(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderItemFinder.price(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalBigOrderItemFinder.productId(), true);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderItemFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalBigOrderItemFinder.state(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderItemFinder.bigPrice(), false, until);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderItemFinder.id(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalBigOrderItemFinder.orderId(), false, until);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderItemFinder.price(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalBigOrderItemFinder.productId(), true, until);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BitemporalBigOrderItemFinder.quantity(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalBigOrderItemFinder.state(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalBigOrderItemData data = ((BitemporalBigOrderItemData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalBigOrderItemData data = ((BitemporalBigOrderItemData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalBigOrderItemData data = ((BitemporalBigOrderItemData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalBigOrderItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalBigOrderItemFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalBigOrderItemData localData = (BitemporalBigOrderItemData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
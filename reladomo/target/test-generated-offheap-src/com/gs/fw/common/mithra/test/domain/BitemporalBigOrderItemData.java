@@ -0,0 +1,676 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalBigOrderItemData
+implements MithraDataObject
+{
+	private byte _dataVersion;
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private BigDecimal bigPrice;
+	private Timestamp businessDateFrom;
+	private Timestamp businessDateTo;
+	private BigDecimal id;
+	private int orderId;
+	private BigDecimal price;
+	private Timestamp processingDateFrom;
+	private Timestamp processingDateTo;
+	private int productId;
+	private BigDecimal quantity;
+	private String state;
+	public boolean isBigPriceNull()
+	{
+		return this.getBigPrice() == null;
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.getBusinessDateFrom() == null;
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.getBusinessDateTo() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return this.getId() == null;
+	}
+
+	public boolean isPriceNull()
+	{
+		return this.getPrice() == null;
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.getProcessingDateFrom() == null;
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.getProcessingDateTo() == null;
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.getQuantity() == null;
+	}
+
+	public boolean isStateNull()
+	{
+		return this.getState() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.bigPrice);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalBigOrderItemFinder.businessDate().getInfinityDate());
+		out.writeObject(this.id);
+		out.writeInt(this.orderId);
+		out.writeObject(this.price);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalBigOrderItemFinder.processingDate().getInfinityDate());
+		out.writeInt(this.productId);
+		out.writeObject(this.quantity);
+		out.writeObject(this.state);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public BigDecimal getBigPrice()
+	{
+		return this.bigPrice;
+	}
+
+	public void setBigPrice(BigDecimal value)
+	{
+		this.bigPrice = value;
+	}
+
+	public void setBigPriceNull()
+	{
+		this.setBigPrice(null);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.businessDateFrom;
+	}
+
+	public long zGetBusinessDateFromAsLong()
+	{
+		if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDateFrom.getTime();
+	}
+
+	public void setBusinessDateFrom(Timestamp value)
+	{
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+	}
+
+	public void setBusinessDateFromNull()
+	{
+		this.setBusinessDateFrom(null);
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.businessDateTo;
+	}
+
+	public long zGetBusinessDateToAsLong()
+	{
+		if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDateTo.getTime();
+	}
+
+	public void setBusinessDateTo(Timestamp value)
+	{
+		if (!value.equals(this.businessDateTo))
+		{
+			zIncrementDataVersion();
+		}
+
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+	}
+
+	public void setBusinessDateToNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public BigDecimal getId()
+	{
+		return this.id;
+	}
+
+	public void setId(BigDecimal value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		this.setId(null);
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.orderId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public BigDecimal getPrice()
+	{
+		return this.price;
+	}
+
+	public void setPrice(BigDecimal value)
+	{
+		this.price = value;
+	}
+
+	public void setPriceNull()
+	{
+		this.setPrice(null);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.processingDateFrom;
+	}
+
+	public long zGetProcessingDateFromAsLong()
+	{
+		if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+		return processingDateFrom.getTime();
+	}
+
+	public void setProcessingDateFrom(Timestamp value)
+	{
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+	}
+
+	public void setProcessingDateFromNull()
+	{
+		this.setProcessingDateFrom(null);
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.processingDateTo;
+	}
+
+	public long zGetProcessingDateToAsLong()
+	{
+		if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+		return processingDateTo.getTime();
+	}
+
+	public void setProcessingDateTo(Timestamp value)
+	{
+		if (!value.equals(this.processingDateTo))
+		{
+			zIncrementDataVersion();
+		}
+
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+	}
+
+	public void setProcessingDateToNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public BigDecimal getQuantity()
+	{
+		return this.quantity;
+	}
+
+	public void setQuantity(BigDecimal value)
+	{
+		this.quantity = value;
+	}
+
+	public void setQuantityNull()
+	{
+		this.setQuantity(null);
+	}
+
+	public String getState()
+	{
+		return this.state;
+	}
+
+	public int zGetStateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+	}
+
+	public void setState(String value)
+	{
+		this.state = StringPool.getInstance().getOrAddToCache(value, BitemporalBigOrderItemFinder.isFullCache());
+	}
+
+	public void setStateNull()
+	{
+		this.setState(null);
+	}
+
+	public void setOrderIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setProductIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return _dataVersion; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+		this._dataVersion = version; 
+	}
+
+	public void zIncrementDataVersion()
+	{
+		_dataVersion++;
+		if (_dataVersion > 120) _dataVersion = (byte) 0;
+	}
+
+	protected void copyInto(BitemporalBigOrderItemData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.bigPrice = this.bigPrice;
+		copy.businessDateFrom = this.businessDateFrom;
+		copy.businessDateTo = this.businessDateTo;
+		copy.id = this.id;
+		copy.orderId = this.orderId;
+		copy.price = this.price;
+		copy.processingDateFrom = this.processingDateFrom;
+		copy.processingDateTo = this.processingDateTo;
+		copy.productId = this.productId;
+		copy.quantity = this.quantity;
+		copy.state = this.state;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[2];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.bigPrice = (BigDecimal)in.readObject();
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalBigOrderItemFinder.businessDate().getInfinityDate()), BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+		this.id = (BigDecimal)in.readObject();
+		this.orderId = in.readInt();
+		this.price = (BigDecimal)in.readObject();
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalBigOrderItemFinder.processingDate().getInfinityDate()), BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+		this.productId = in.readInt();
+		this.quantity = (BigDecimal)in.readObject();
+		this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BitemporalBigOrderItemFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final BitemporalBigOrderItemData otherData = (BitemporalBigOrderItemData) other;
+		if (!isIdNull() ? !getId().equals(otherData.getId()) : !otherData.isIdNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalBigOrderItemFinder.businessDate().getInfinityDate());
+		out.writeObject(this.id);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalBigOrderItemFinder.processingDate().getInfinityDate());
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalBigOrderItemFinder.businessDate().getInfinityDate()), BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+		this.id = (BigDecimal)in.readObject();
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalBigOrderItemFinder.processingDate().getInfinityDate()), BitemporalBigOrderItemFinder.isFullCache(), BitemporalBigOrderItemFinder.isOffHeap());
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getProductInfo()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setProductInfo(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getOrder()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setOrder(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final BitemporalBigOrderItemData bitemporalBigOrderItemData = (BitemporalBigOrderItemData) newData;
+		this.setBigPrice(bitemporalBigOrderItemData.getBigPrice());
+		this.setBusinessDateFrom(bitemporalBigOrderItemData.getBusinessDateFrom());
+		this.setBusinessDateTo(bitemporalBigOrderItemData.getBusinessDateTo());
+		this.setOrderId(bitemporalBigOrderItemData.getOrderId());
+		if (bitemporalBigOrderItemData.isOrderIdNull()) this.setOrderIdNull();
+		this.setPrice(bitemporalBigOrderItemData.getPrice());
+		this.setProcessingDateFrom(bitemporalBigOrderItemData.getProcessingDateFrom());
+		this.setProcessingDateTo(bitemporalBigOrderItemData.getProcessingDateTo());
+		this.setProductId(bitemporalBigOrderItemData.getProductId());
+		if (bitemporalBigOrderItemData.isProductIdNull()) this.setProductIdNull();
+		this.setQuantity(bitemporalBigOrderItemData.getQuantity());
+		this.setState(bitemporalBigOrderItemData.getState());
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final BitemporalBigOrderItemData other = (BitemporalBigOrderItemData) newData;
+		if (!isBigPriceNull() ? !getBigPrice().equals(other.getBigPrice()) : !other.isBigPriceNull())
+		{
+			return true;
+		}
+
+		if ( isOrderIdNull() != other.isOrderIdNull() || getOrderId() != other.getOrderId())
+		{
+			return true;
+		}
+
+		if (!isPriceNull() ? !getPrice().equals(other.getPrice()) : !other.isPriceNull())
+		{
+			return true;
+		}
+
+		if ( isProductIdNull() != other.isProductIdNull() || getProductId() != other.getProductId())
+		{
+			return true;
+		}
+
+		if (!isQuantityNull() ? !getQuantity().equals(other.getQuantity()) : !other.isQuantityNull())
+		{
+			return true;
+		}
+
+		if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		BitemporalBigOrderItemData copy = new BitemporalBigOrderItemData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		BitemporalBigOrderItemData copy = new BitemporalBigOrderItemData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+		result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+		result += "id: "+(""+getId())+ " / ";
+		result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+		result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		boolean result = true;
+		BitemporalBigOrderItemData otherData = (BitemporalBigOrderItemData) other;
+		result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+		result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+		return result;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		BitemporalBigOrderItemData otherData = (BitemporalBigOrderItemData) other;
+		if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+		{
+			return true;
+		}
+
+		if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+		{
+			return true;
+		}
+
+		if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+		{
+			return true;
+		}
+
+		if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.BitemporalBigOrderItemData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return BitemporalBigOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return BitemporalBigOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.BitemporalBigOrderItemData";
+	}
+}
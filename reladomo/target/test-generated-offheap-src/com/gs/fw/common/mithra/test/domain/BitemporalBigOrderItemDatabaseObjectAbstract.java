@@ -0,0 +1,625 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class BitemporalBigOrderItemDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ORDER_ID,PRODUCT_ID,QUANTITY,ORIGINAL_PRICE,BIG_PRICE,\"STATE\",FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ORDER_ID,t0.PRODUCT_ID,t0.QUANTITY,t0.ORIGINAL_PRICE,t0.BIG_PRICE,t0.\"STATE\",t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected BitemporalBigOrderItemDatabaseObjectAbstract()
+	{
+		super("BitemporalBigOrderItem", "com.gs.fw.common.mithra.test.domain.BitemporalBigOrderItemFinder",
+			11, 11,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalBigOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return BitemporalBigOrderItemFinder.getFinderInstance();
+	}
+
+	public static BitemporalBigOrderItemData allocateOnHeapData()
+	{
+		return new BitemporalBigOrderItemData();
+	}
+
+	public static BitemporalBigOrderItemData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new BitemporalBigOrderItemData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalBigOrderItemFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalBigOrderItemFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		BitemporalBigOrderItemData data = new BitemporalBigOrderItemData();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalBigOrderItemFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalBigOrderItemFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullDatedTransactionalCache(BitemporalBigOrderItemFinder.getPrimaryKeyAttributes(), BitemporalBigOrderItemFinder.getAsOfAttributes(), this, BitemporalBigOrderItemFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullDatedCache(BitemporalBigOrderItemFinder.getPrimaryKeyAttributes(), BitemporalBigOrderItemFinder.getAsOfAttributes(), this, BitemporalBigOrderItemFinder.getImmutableAttributes());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(BitemporalBigOrderItemFinder.getPrimaryKeyAttributes(), BitemporalBigOrderItemFinder.getAsOfAttributes(), this, BitemporalBigOrderItemFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialDatedCache(BitemporalBigOrderItemFinder.getPrimaryKeyAttributes(), BitemporalBigOrderItemFinder.getAsOfAttributes(), this, BitemporalBigOrderItemFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			BitemporalBigOrderItemFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			BitemporalBigOrderItemFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			BitemporalBigOrderItem.zConfigFullTx();
+		}
+		else
+		{
+			BitemporalBigOrderItem.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBitemporalBigOrderItemData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkBitemporalBigOrderItemData(1, (BitemporalBigOrderItemData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBitemporalBigOrderItemPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getBitemporalBigOrderItemTableName();
+	}
+
+	public String getBitemporalBigOrderItemTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BitemporalBigOrderItemData data = (BitemporalBigOrderItemData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (BitemporalBigOrderItemFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BitemporalBigOrderItemData data = (BitemporalBigOrderItemData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setBigDecimal(pos++, data.getId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == BitemporalBigOrderItemFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == BitemporalBigOrderItemFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (BitemporalBigOrderItemFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.ORDER_ID,t0.PRODUCT_ID,t0.QUANTITY,t0.ORIGINAL_PRICE,t0.BIG_PRICE,t0.\"STATE\",t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*11);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("ORDER_ID");
+		result.append(",").append(databaseAlias).append(".").append("PRODUCT_ID");
+		result.append(",").append(databaseAlias).append(".").append("QUANTITY");
+		result.append(",").append(databaseAlias).append(".").append("ORIGINAL_PRICE");
+		result.append(",").append(databaseAlias).append(".").append("BIG_PRICE");
+		result.append(",").append(databaseAlias).append(".").append("\"STATE\"");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public BitemporalBigOrderItemData inflateBitemporalBigOrderItemData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		BitemporalBigOrderItemData data = inflateBitemporalBigOrderItemPkData(rs, dt);
+		inflateNonPkBitemporalBigOrderItemData(2, data, rs, dt);
+		return data;
+	}
+
+	public BitemporalBigOrderItemData inflateBitemporalBigOrderItemPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		BitemporalBigOrderItemData _data = new BitemporalBigOrderItemData();
+		int _pos = 1;
+		_data.setId(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 0));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkBitemporalBigOrderItemData(int _pos, BitemporalBigOrderItemData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			BitemporalBigOrderItemData _data = _datax;
+			_data.setOrderId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOrderIdNull();
+			}
+
+			_data.setProductId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProductIdNull();
+			}
+
+			_data.setQuantity(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 3));
+			_data.setPrice(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 7, 2));
+			_data.setBigPrice(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 38, 20));
+			_data.setState(trimString(_rs.getString(_pos++)));
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				BitemporalBigOrderItemFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				BitemporalBigOrderItemFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getBitemporalBigOrderItemTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "BITEMPORAL_BIG_ORDER_ITEM";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		BitemporalBigOrderItemData data = (BitemporalBigOrderItemData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isIdNull())
+		{
+			throwNullAttribute("id");
+		}
+
+		stm.setBigDecimal(pos++, data.getId());
+		if (data.isOrderIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getOrderId());
+		}
+
+		if (data.isProductIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getProductId());
+		}
+
+		if (data.isQuantityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getQuantity());
+		}
+
+		if (data.isPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getPrice());
+		}
+
+		if (data.isBigPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getBigPrice());
+		}
+
+		if (data.isStateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getState());
+		}
+
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateToNull())
+		{
+			throwNullAttribute("businessDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == BitemporalBigOrderItemFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == BitemporalBigOrderItemFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,ORDER_ID,PRODUCT_ID,QUANTITY,ORIGINAL_PRICE,BIG_PRICE,\"STATE\",FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		BitemporalBigOrderItem newObject = new BitemporalBigOrderItem(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromBitemporalBigOrderItemData((BitemporalBigOrderItemData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(BitemporalBigOrderItemFinder.getMithraObjectPortal(),
+			BitemporalBigOrderItemFinder.processingDate())
+		,BitemporalBigOrderItemFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_Z = ?";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BitemporalBigOrderItemData data = (BitemporalBigOrderItemData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setBigDecimal(pos++, data.getId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, BitemporalBigOrderItemFinder.businessDate(),
+			BitemporalBigOrderItemFinder.processingDate());
+	}
+}
@@ -0,0 +1,1101 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalBigOrderItemFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalBigOrderItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalBigOrderItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalBigOrderItem");
+	private static final BitemporalBigOrderItemSingleFinder<BitemporalBigOrderItem, Object, BitemporalBigOrderItem> finder = new BitemporalBigOrderItemSingleFinder<BitemporalBigOrderItem, Object, BitemporalBigOrderItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalBigOrderItemFinder.BitemporalBigOrderItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("price");
+		finderMethodMap.addNormalAttributeName("bigPrice");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("productInfo");
+		finderMethodMap.addRelationshipName("order");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = BitemporalBigOrderItemFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			result[1] = ProductFinder.productId().constructEqualityMapper(BitemporalBigOrderItemFinder.productId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = BitemporalBigOrderItemFinder.price().eq(9.99);
+			result[1] = BitemporalBigOrderItemFinder.price().lessThanEquals(9.99);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalBigOrderItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalBigOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalBigOrderItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalBigOrderItemList) finder.findMany(operation);
+	}
+
+	public static BitemporalBigOrderItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalBigOrderItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalBigOrderItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalBigOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalBigOrderItem findByPrimaryKey(BigDecimal id, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalBigOrderItemData _castedTargetData = (BitemporalBigOrderItemData) _targetData;
+			if (_bean.getO1AsBigDecimal().equals(_castedTargetData.getId()))
+			{
+				return BitemporalBigOrderItemFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalBigOrderItemFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsBigDecimal());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsBigDecimal());
+		}
+	}
+
+	public static BitemporalBigOrderItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalBigOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalBigOrderItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalBigOrderItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private BigDecimalAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private BigDecimalAttribute<ParentOwnerType> quantity;
+		private BigDecimalAttribute<ParentOwnerType> price;
+		private BigDecimalAttribute<ParentOwnerType> bigPrice;
+		private StringAttribute<ParentOwnerType> state;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private BitemporalBigOrderItemProductInfoFinderSubclass<ParentOwnerType> productInfo;
+		private BitemporalBigOrderItemOrderFinderSubclass<ParentOwnerType> order;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalBigOrderItemRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalBigOrderItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalBigOrderItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalBigOrderItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalBigOrderItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalBigOrderItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[11];
+			attributes[0] = this.id();
+			attributes[1] = this.orderId();
+			attributes[2] = this.productId();
+			attributes[3] = this.quantity();
+			attributes[4] = this.price();
+			attributes[5] = this.bigPrice();
+			attributes[6] = this.state();
+			attributes[7] = this.businessDateFrom();
+			attributes[8] = this.businessDateTo();
+			attributes[9] = this.processingDateFrom();
+			attributes[10] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.productInfo());
+				relatedFinders.add(this.order());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalBigOrderItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalBigOrderItemFinder.findOne(operation, false);
+		}
+
+		public BitemporalBigOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalBigOrderItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalBigOrderItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalBigOrderItemList((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalBigOrderItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalBigOrderItemList result = (BitemporalBigOrderItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalBigOrderItem> constructEmptyList()
+		{
+			return new BitemporalBigOrderItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -495403867;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> id()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,10,0, false) :
+					new MappedBigDecimalAttribute(BitemporalBigOrderItemFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalBigOrderItemFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "BitemporalBigOrder", "items");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalBigOrderItemFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("productInfo");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> quantity()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,10,3, false) :
+					new MappedBigDecimalAttribute(BitemporalBigOrderItemFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> price()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.price;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("ORIGINAL_PRICE","","price",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,7,2, false) :
+					new MappedBigDecimalAttribute(BitemporalBigOrderItemFinder.price(), this.mapper, this.zGetValueSelector());
+				this.price = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> bigPrice()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.bigPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("BIG_PRICE","","bigPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,38,20, false) :
+					new MappedBigDecimalAttribute(BitemporalBigOrderItemFinder.bigPrice(), this.mapper, this.zGetValueSelector());
+				this.bigPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(BitemporalBigOrderItemFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalBigOrderItemFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalBigOrderItemFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalBigOrderItemFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalBigOrderItemFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalBigOrderItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalBigOrderItemFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalBigOrderItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalBigOrderItemFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalBigOrderItemFinder.businessDateInfinity,false,false,BitemporalBigOrderItemFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BitemporalBigOrderItemFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalBigOrderItemFinder.processingDateInfinity,false,false,BitemporalBigOrderItemFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BitemporalBigOrderItemFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, BitemporalBigOrderItem> productInfo()
+		{
+			BitemporalBigOrderItemProductInfoFinderSubclass<ParentOwnerType> result = this.productInfo;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalBigOrderItemFinder.zGetBitemporalBigOrderItemProductInfoReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalBigOrderItemProductInfoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productInfo = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalBigOrderFinder.BitemporalBigOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrder, BitemporalBigOrderItem> order()
+		{
+			BitemporalBigOrderItemOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalBigOrderFinder.zGetBitemporalBigOrderItemsMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalBigOrderItemOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalBigOrderItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalBigOrderItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalBigOrderItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalBigOrderItemRelatedFinder<ParentOwnerType, ReturnType, BitemporalBigOrderItemList, OwnerType>
+	{
+		public BitemporalBigOrderItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalBigOrderItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalBigOrderItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalBigOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalBigOrderItemRelatedFinder<ParentOwnerType, ReturnType, BitemporalBigOrderItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalBigOrderItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalBigOrderItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalBigOrderItem other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalBigOrderItem findByPrimaryKey(BigDecimal id, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalBigOrderItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (id != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalBigOrderItem) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalBigOrderItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalBigOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalBigOrderItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productInfoReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderItemProductInfoReverseMapper()
+	{
+		if (productInfoReverseMapper == null)
+		{
+			productInfoReverseMapper = zConstructBitemporalBigOrderItemProductInfoReverseMapper();
+		}
+
+		return productInfoReverseMapper;
+	}
+
+	private static Mapper productInfoMapper = null;
+	public static Mapper zGetBitemporalBigOrderItemProductInfoMapper()
+	{
+		if (productInfoMapper == null)
+		{
+			productInfoMapper = zConstructBitemporalBigOrderItemProductInfoMapper();
+		}
+
+		return productInfoMapper;
+	}
+
+	private static Mapper productInfoPureReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderItemProductInfoPureReverseMapper()
+	{
+		if (productInfoPureReverseMapper == null)
+		{
+			productInfoPureReverseMapper = zConstructBitemporalBigOrderItemProductInfoPureReverseMapper();
+		}
+
+		return productInfoPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemProductInfoPureReverseMapper()
+	{
+		Mapper productInfoMapper = BitemporalBigOrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemProductInfoReverseMapper()
+	{
+		Mapper productInfoMapper = BitemporalBigOrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemProductInfoMapper()
+	{
+		Mapper productInfoMapper = BitemporalBigOrderItemFinder.zGetConstantJoin(1);
+		productInfoMapper.setName("productInfo_Reverse");
+		return productInfoMapper;
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.ID **/
+	public static BigDecimalAttribute<BitemporalBigOrderItem> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.ORDER_ID **/
+	public static IntegerAttribute<BitemporalBigOrderItem> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.PRODUCT_ID **/
+	public static IntegerAttribute<BitemporalBigOrderItem> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.QUANTITY **/
+	public static BigDecimalAttribute<BitemporalBigOrderItem> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.ORIGINAL_PRICE **/
+	public static BigDecimalAttribute<BitemporalBigOrderItem> price()
+	{
+		return finder.price();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.BIG_PRICE **/
+	public static BigDecimalAttribute<BitemporalBigOrderItem> bigPrice()
+	{
+		return finder.bigPrice();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM."STATE" **/
+	public static StringAttribute<BitemporalBigOrderItem> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.FROM_Z **/
+	public static TimestampAttribute<BitemporalBigOrderItem> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.THRU_Z **/
+	public static TimestampAttribute<BitemporalBigOrderItem> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.IN_Z **/
+	public static TimestampAttribute<BitemporalBigOrderItem> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER_ITEM.OUT_Z **/
+	public static TimestampAttribute<BitemporalBigOrderItem> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalBigOrderItem> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalBigOrderItem> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ProductFinder.ProductSingleFinderForRelatedClasses<BitemporalBigOrderItem, Product, BitemporalBigOrderItem> productInfo()
+	{
+		return finder.productInfo();
+	}
+
+	public static class BitemporalBigOrderItemProductInfoFinderSubclass<ParentOwnerType> extends ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, BitemporalBigOrderItem>
+	{
+		public BitemporalBigOrderItemProductInfoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productInfo";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalBigOrderItemProductInfoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Product plainValueOf(BitemporalBigOrderItem _obj)
+		{
+			return _obj.getProductInfo();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalBigOrderItemList)_obj).getProductInfos();
+		}
+	}
+
+	public static BitemporalBigOrderFinder.BitemporalBigOrderSingleFinderForRelatedClasses<BitemporalBigOrderItem, BitemporalBigOrder, BitemporalBigOrderItem> order()
+	{
+		return finder.order();
+	}
+
+	public static class BitemporalBigOrderItemOrderFinderSubclass<ParentOwnerType> extends BitemporalBigOrderFinder.BitemporalBigOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrder, BitemporalBigOrderItem>
+	{
+		public BitemporalBigOrderItemOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalBigOrderFinder.orderId(),
+				BitemporalBigOrderFinder.businessDate(),
+				BitemporalBigOrderFinder.processingDate()).withExtractors(
+				BitemporalBigOrderItemFinder.orderId(),
+				BitemporalBigOrderItemFinder.businessDate(),
+				BitemporalBigOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalBigOrderItemOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalBigOrder plainValueOf(BitemporalBigOrderItem _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected BitemporalBigOrderList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalBigOrderItemList)_obj).getOrders();
+		}
+	}
+
+	public static Operation eq(BitemporalBigOrderItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static BitemporalBigOrderItemSingleFinder<BitemporalBigOrderItem, Object, BitemporalBigOrderItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			orderId()
+			, price()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[4];
+		result[0] = id();
+		result[1] = quantity();
+		result[2] = price();
+		result[3] = bigPrice();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalBigOrderItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
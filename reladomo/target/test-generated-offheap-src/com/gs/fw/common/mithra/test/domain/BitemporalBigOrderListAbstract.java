@@ -0,0 +1,243 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalBigOrderListAbstract extends DelegatingList<BitemporalBigOrder> implements MithraDatedTransactionalList<BitemporalBigOrder>
+{
+	public BitemporalBigOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalBigOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalBigOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalBigOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalBigOrder[] elements()
+	{
+		BitemporalBigOrder[] result = new BitemporalBigOrder[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalBigOrderList intersection(BitemporalBigOrderList another)
+	{
+		return (BitemporalBigOrderList)super.intersection(another);
+	}
+
+	public BitemporalBigOrder getBitemporalBigOrderAt(int index)
+	{
+		return (BitemporalBigOrder)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId</pre>
+	* @see BitemporalBigOrderItem#getOrder() reverse relationship BitemporalBigOrderItem.getOrder()
+	* @return items
+	*/
+	public BitemporalBigOrderItemList getItems()
+	{
+		return (BitemporalBigOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalBigOrderFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId and BitemporalBigOrderItem.price = 9.99</pre>
+	* @return nine nine nine items
+	*/
+	public BitemporalBigOrderItemList getNineNineNineItems()
+	{
+		return (BitemporalBigOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalBigOrderFinder.nineNineNineItems());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId and BitemporalBigOrderItem.price <= 9.99</pre>
+	* @return cheap items
+	*/
+	public BitemporalBigOrderItemList getCheapItems()
+	{
+		return (BitemporalBigOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalBigOrderFinder.cheapItems());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId
+	and BitemporalBigOrderItem.price = {price}</pre>
+	* @return items by price
+	*/
+	public BitemporalBigOrderItemList getItemsByPrice(BigDecimal price)
+	{
+		return (BitemporalBigOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalBigOrderFinder.itemsByPrice(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalBigOrderItem.orderId = this.orderId
+	and BitemporalBigOrderItem.price = {price}</pre>
+	* @return items by double price
+	*/
+	public BitemporalBigOrderItemList getItemsByDoublePrice(double price)
+	{
+		return (BitemporalBigOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalBigOrderFinder.itemsByDoublePrice(price));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalBigOrderFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalBigOrderList getNonPersistentCopy()
+	{
+		BitemporalBigOrderList result = new BitemporalBigOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalBigOrderList asAdhoc()
+	{
+		return (BitemporalBigOrderList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalBigOrder> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalBigOrderList merge(MithraTransactionalList<BitemporalBigOrder> incoming, TopLevelMergeOptions<BitemporalBigOrder> mergeOptions)
+	{
+		return (BitemporalBigOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalBigOrderList getDetachedCopy()
+	{
+		BitemporalBigOrderList result = new BitemporalBigOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalBigOrderFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BitemporalBigOrderFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(BitemporalBigOrderFinder.description(), newValue);
+	}
+
+	public void setDiscountPercentage(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderFinder.discountPercentage(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderFinder.processingDateTo(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(BitemporalBigOrderFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
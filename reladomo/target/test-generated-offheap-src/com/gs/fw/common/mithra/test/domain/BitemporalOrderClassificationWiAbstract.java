@@ -0,0 +1,40 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface BitemporalOrderClassificationWiAbstract
+{
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp newValue);
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp newValue);
+	boolean isBusinessDateToNull();
+	int getClassificationId();
+	void setClassificationId(int newValue);
+	boolean isClassificationIdNull();
+	void setClassificationIdUntil(int newValue, Timestamp exclusiveUntil);
+	String getDescription();
+	void setDescription(String newValue);
+	boolean isDescriptionNull();
+	void setDescriptionUntil(String newValue, Timestamp exclusiveUntil);
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	void setOrderIdUntil(int newValue, Timestamp exclusiveUntil);
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp newValue);
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp newValue);
+	boolean isProcessingDateToNull();
+	public BitemporalOrderWi getOrder();
+	void setOrder(BitemporalOrderWi order);
+	Timestamp getBusinessDate();
+	Timestamp getProcessingDate();
+}
@@ -0,0 +1,1066 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface BitemporalOrderClassificationWiData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 48;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isClassificationIdNull();
+	int getClassificationId();
+	void setClassificationId(int value);
+	void setClassificationIdNull();
+	boolean isDescriptionNull();
+	String getDescription();
+	void setDescription(String value);
+	void setDescriptionNull();
+	int zGetDescriptionAsInt();
+	boolean isOrderIdNull();
+	int getOrderId();
+	void setOrderId(int value);
+	void setOrderIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getOrder();
+	void setOrder(Object related);
+	public class BitemporalOrderClassificationWiDataOnHeap implements BitemporalOrderClassificationWiData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private int classificationId;
+		private String description;
+		private int orderId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isClassificationIdNull()
+		{
+			return false;
+		}
+
+		public boolean isDescriptionNull()
+		{
+			return this.getDescription() == null;
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate());
+			out.writeInt(this.classificationId);
+			out.writeObject(this.description);
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getClassificationId()
+		{
+			return this.classificationId;
+		}
+
+		public void setClassificationId(int value)
+		{
+			this.classificationId = value;
+		}
+
+		public void setClassificationIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getDescription()
+		{
+			return this.description;
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+		}
+
+		public void setDescription(String value)
+		{
+			this.description = StringPool.getInstance().getOrAddToCache(value, BitemporalOrderClassificationWiFinder.isFullCache());
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public int getOrderId()
+		{
+			return this.orderId;
+		}
+
+		public void setOrderId(int value)
+		{
+			this.orderId = value;
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(BitemporalOrderClassificationWiDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.classificationId = this.classificationId;
+			copy.description = this.description;
+			copy.orderId = this.orderId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate()), BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+			this.classificationId = in.readInt();
+			this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BitemporalOrderClassificationWiFinder.isFullCache());
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate()), BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final BitemporalOrderClassificationWiData otherData = (BitemporalOrderClassificationWiData) other;
+			if (getClassificationId() != otherData.getClassificationId())
+			{
+				return false;
+			}
+
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate());
+			out.writeInt(this.classificationId);
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate()), BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+			this.classificationId = in.readInt();
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate()), BitemporalOrderClassificationWiFinder.isFullCache(), BitemporalOrderClassificationWiFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getOrder()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setOrder(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			BitemporalOrderClassificationWiDataOffHeap data = new BitemporalOrderClassificationWiDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setClassificationId(this.getClassificationId());
+			data.setDescription(this.getDescription());
+			data.setOrderId(this.getOrderId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final BitemporalOrderClassificationWiData bitemporalOrderClassificationWiData = (BitemporalOrderClassificationWiData) newData;
+			this.setBusinessDateFrom(bitemporalOrderClassificationWiData.getBusinessDateFrom());
+			this.setBusinessDateTo(bitemporalOrderClassificationWiData.getBusinessDateTo());
+			this.setDescription(bitemporalOrderClassificationWiData.getDescription());
+			this.setProcessingDateFrom(bitemporalOrderClassificationWiData.getProcessingDateFrom());
+			this.setProcessingDateTo(bitemporalOrderClassificationWiData.getProcessingDateTo());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final BitemporalOrderClassificationWiData other = (BitemporalOrderClassificationWiData) newData;
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			BitemporalOrderClassificationWiDataOnHeap copy = new BitemporalOrderClassificationWiDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			BitemporalOrderClassificationWiDataOnHeap copy = new BitemporalOrderClassificationWiDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "classificationId: "+(""+getClassificationId())+ " / ";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			BitemporalOrderClassificationWiData otherData = (BitemporalOrderClassificationWiData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			BitemporalOrderClassificationWiData otherData = (BitemporalOrderClassificationWiData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWiData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return BitemporalOrderClassificationWiFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return BitemporalOrderClassificationWiFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWiData";
+		}
+	}
+
+	public class BitemporalOrderClassificationWiDataOffHeap extends MithraOffHeapDataObject implements BitemporalOrderClassificationWiData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public BitemporalOrderClassificationWiDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 32);
+			this.zSetTimestamp(_storage, value, 40);
+		}
+
+		public BitemporalOrderClassificationWiDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isClassificationIdNull()
+		{
+			return false;
+		}
+
+		public boolean isDescriptionNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate());
+			out.writeInt(this.getClassificationId());
+			out.writeObject(this.getDescription());
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getClassificationId()
+		{
+			return zGetInteger(_storage, 4);
+		}
+
+		public void setClassificationId(int value)
+		{
+			zSetInteger(_storage, value, 4, -1, -1);
+		}
+
+		public void setClassificationIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getDescription()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setDescription(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public int getOrderId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setOrderId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(BitemporalOrderClassificationWiDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.classificationId = this.getClassificationId();
+			copy.description = this.getDescription();
+			copy.orderId = this.getOrderId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 4, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof BitemporalOrderClassificationWiDataOffHeap)
+			{
+				final BitemporalOrderClassificationWiDataOffHeap otherData = (BitemporalOrderClassificationWiDataOffHeap) other;
+				if (this.zGetInteger(_storage, 4) != otherData.zGetInteger(_storage, 4))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final BitemporalOrderClassificationWiData otherData = (BitemporalOrderClassificationWiData) other;
+			if (getClassificationId() != otherData.getClassificationId())
+			{
+				return false;
+			}
+
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate());
+			out.writeInt(this.getClassificationId());
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 4, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getOrder()
+		{
+			return null;
+		}
+
+		public void setOrder(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final BitemporalOrderClassificationWiData bitemporalOrderClassificationWiData = (BitemporalOrderClassificationWiData) newData;
+			this.setBusinessDateFrom(bitemporalOrderClassificationWiData.getBusinessDateFrom());
+			this.setBusinessDateTo(bitemporalOrderClassificationWiData.getBusinessDateTo());
+			this.setDescription(bitemporalOrderClassificationWiData.getDescription());
+			this.setProcessingDateFrom(bitemporalOrderClassificationWiData.getProcessingDateFrom());
+			this.setProcessingDateTo(bitemporalOrderClassificationWiData.getProcessingDateTo());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final BitemporalOrderClassificationWiData other = (BitemporalOrderClassificationWiData) newData;
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			BitemporalOrderClassificationWiDataOnHeap copy = new BitemporalOrderClassificationWiDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			BitemporalOrderClassificationWiDataOnHeap copy = new BitemporalOrderClassificationWiDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "classificationId: "+(""+getClassificationId())+ " / ";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			BitemporalOrderClassificationWiData otherData = (BitemporalOrderClassificationWiData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			BitemporalOrderClassificationWiData otherData = (BitemporalOrderClassificationWiData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWiData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return BitemporalOrderClassificationWiFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return BitemporalOrderClassificationWiFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWiData";
+		}
+	}
+}
@@ -0,0 +1,584 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class BitemporalOrderClassificationWiDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "DESCRIPTION,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.DESCRIPTION,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ORDER_ID = ? AND t0.CLASSIFICATION_ID = ?";
+	private static final String PK_INDEX_COLS = "ORDER_ID,CLASSIFICATION_ID";
+	protected BitemporalOrderClassificationWiDatabaseObjectAbstract()
+	{
+		super("BitemporalOrderClassificationWi", "com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWiFinder",
+			7, 7,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderClassificationWiFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return BitemporalOrderClassificationWiFinder.getFinderInstance();
+	}
+
+	public static BitemporalOrderClassificationWiData allocateOnHeapData()
+	{
+		return new BitemporalOrderClassificationWiData.BitemporalOrderClassificationWiDataOnHeap();
+	}
+
+	public static BitemporalOrderClassificationWiData allocateOffHeapData()
+	{
+		return new BitemporalOrderClassificationWiData.BitemporalOrderClassificationWiDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new BitemporalOrderClassificationWiData.BitemporalOrderClassificationWiDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalOrderClassificationWiFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalOrderClassificationWiFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		BitemporalOrderClassificationWiData data = new BitemporalOrderClassificationWiData.BitemporalOrderClassificationWiDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalOrderClassificationWiFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalOrderClassificationWiFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(BitemporalOrderClassificationWiData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWi", BitemporalOrderClassificationWiFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("BitemporalOrderClassificationWi"));
+			BitemporalOrderClassificationWiData.BitemporalOrderClassificationWiDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(BitemporalOrderClassificationWiFinder.getPrimaryKeyAttributes(), BitemporalOrderClassificationWiFinder.getAsOfAttributes(), this, BitemporalOrderClassificationWiFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(BitemporalOrderClassificationWiFinder.getPrimaryKeyAttributes(), BitemporalOrderClassificationWiFinder.getAsOfAttributes(), this, BitemporalOrderClassificationWiFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(BitemporalOrderClassificationWiFinder.getPrimaryKeyAttributes(), BitemporalOrderClassificationWiFinder.getAsOfAttributes(), this, BitemporalOrderClassificationWiFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(BitemporalOrderClassificationWiFinder.getPrimaryKeyAttributes(), BitemporalOrderClassificationWiFinder.getAsOfAttributes(), this, BitemporalOrderClassificationWiFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(BitemporalOrderClassificationWiFinder.getPrimaryKeyAttributes(), BitemporalOrderClassificationWiFinder.getAsOfAttributes(), this, BitemporalOrderClassificationWiFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(BitemporalOrderClassificationWiData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWi", BitemporalOrderClassificationWiFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			BitemporalOrderClassificationWiData.BitemporalOrderClassificationWiDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(BitemporalOrderClassificationWiFinder.getPrimaryKeyAttributes(), BitemporalOrderClassificationWiFinder.getAsOfAttributes(), this, BitemporalOrderClassificationWiFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(BitemporalOrderClassificationWiFinder.getPrimaryKeyAttributes(), BitemporalOrderClassificationWiFinder.getAsOfAttributes(), this, BitemporalOrderClassificationWiFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			BitemporalOrderClassificationWiFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			BitemporalOrderClassificationWiFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			BitemporalOrderClassificationWiImpl.zConfigFullTx();
+		}
+		else
+		{
+			BitemporalOrderClassificationWiImpl.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBitemporalOrderClassificationWiData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkBitemporalOrderClassificationWiData(1, (BitemporalOrderClassificationWiData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBitemporalOrderClassificationWiPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getBitemporalOrderClassificationWiTableName();
+	}
+
+	public String getBitemporalOrderClassificationWiTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (BitemporalOrderClassificationWiFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getOrderId());
+		stm.setInt(pos++, data.getClassificationId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (BitemporalOrderClassificationWiFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ORDER_ID = ? AND CLASSIFICATION_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ORDER_ID,t0.CLASSIFICATION_ID,t0.DESCRIPTION,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*7);
+		result.append(databaseAlias).append(".").append("ORDER_ID");
+		result.append(",").append(databaseAlias).append(".").append("CLASSIFICATION_ID");
+		result.append(",").append(databaseAlias).append(".").append("DESCRIPTION");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public BitemporalOrderClassificationWiData inflateBitemporalOrderClassificationWiData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		BitemporalOrderClassificationWiData data = inflateBitemporalOrderClassificationWiPkData(rs, dt);
+		inflateNonPkBitemporalOrderClassificationWiData(3, data, rs, dt);
+		return data;
+	}
+
+	public BitemporalOrderClassificationWiData inflateBitemporalOrderClassificationWiPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		BitemporalOrderClassificationWiData _data = new BitemporalOrderClassificationWiData.BitemporalOrderClassificationWiDataOnHeap();
+		int _pos = 1;
+		_data.setOrderId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "orderId");
+		_data.setClassificationId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "classificationId");
+		return _data;
+	}
+
+	public void inflateNonPkBitemporalOrderClassificationWiData(int _pos, BitemporalOrderClassificationWiData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			BitemporalOrderClassificationWiData _data = _datax;
+			_data.setDescription(trimString(_rs.getString(_pos++)));
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getBitemporalOrderClassificationWiTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "BITEMPORAL_ORDER_CLSFCN_WI";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getOrderId());
+		stm.setInt(pos++, data.getClassificationId());
+		if (data.isDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getDescription());
+		}
+
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateToNull())
+		{
+			throwNullAttribute("businessDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "ORDER_ID,CLASSIFICATION_ID,DESCRIPTION,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderClassificationWiImpl newObject = new BitemporalOrderClassificationWiImpl(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromBitemporalOrderClassificationWiData((BitemporalOrderClassificationWiData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(BitemporalOrderClassificationWiFinder.getMithraObjectPortal(),
+			BitemporalOrderClassificationWiFinder.processingDate())
+		,BitemporalOrderClassificationWiFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_Z = ?";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getOrderId());
+		stm.setInt(pos++, data.getClassificationId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, BitemporalOrderClassificationWiFinder.businessDate(),
+			BitemporalOrderClassificationWiFinder.processingDate());
+	}
+}
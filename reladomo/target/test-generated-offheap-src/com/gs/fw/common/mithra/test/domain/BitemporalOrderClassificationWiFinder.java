@@ -0,0 +1,846 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalOrderClassificationWiFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalOrderClassificationWiImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWi";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWi");
+	private static final BitemporalOrderClassificationWiSingleFinder<BitemporalOrderClassificationWi, Object, BitemporalOrderClassificationWi> finder = new BitemporalOrderClassificationWiSingleFinder<BitemporalOrderClassificationWi, Object, BitemporalOrderClassificationWi>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalOrderClassificationWiFinder.BitemporalOrderClassificationWiRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("classificationId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("order");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalOrderClassificationWi findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalOrderClassificationWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalOrderClassificationWiList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderClassificationWiListImpl) finder.findMany(operation);
+	}
+
+	public static BitemporalOrderClassificationWiList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderClassificationWiListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalOrderClassificationWi findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalOrderClassificationWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalOrderClassificationWi findByPrimaryKey(int orderId, int classificationId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, classificationId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderClassificationWiData _castedTargetData = (BitemporalOrderClassificationWiData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId() && _bean.getI2AsInteger() == _castedTargetData.getClassificationId())
+			{
+				return BitemporalOrderClassificationWiFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderClassificationWiFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static BitemporalOrderClassificationWiImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalOrderClassificationWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalOrderClassificationWiRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalOrderClassificationWi, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> classificationId;
+		private StringAttribute<ParentOwnerType> description;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private BitemporalOrderClassificationWiOrderFinderSubclass<ParentOwnerType> order;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalOrderClassificationWiRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalOrderClassificationWiRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWiFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalOrderClassificationWiFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalOrderClassificationWiFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalOrderClassificationWiFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.orderId();
+			attributes[1] = this.classificationId();
+			attributes[2] = this.description();
+			attributes[3] = this.businessDateFrom();
+			attributes[4] = this.businessDateTo();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.order());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalOrderClassificationWi findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderClassificationWiFinder.findOne(operation, false);
+		}
+
+		public BitemporalOrderClassificationWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderClassificationWiFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalOrderClassificationWi> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalOrderClassificationWiListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalOrderClassificationWi> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalOrderClassificationWiListImpl result = (BitemporalOrderClassificationWiListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalOrderClassificationWi> constructEmptyList()
+		{
+			return new BitemporalOrderClassificationWiListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1329882922;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderClassificationWiFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "BitemporalOrderWi", "classifications");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> classificationId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.classificationId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CLASSIFICATION_ID","","classificationId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,4,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderClassificationWiFinder.classificationId(), this.mapper, this.zGetValueSelector());
+				this.classificationId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,50,true, false) :
+					new MappedStringAttribute(BitemporalOrderClassificationWiFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderClassificationWiFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderClassificationWiFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderClassificationWiFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderClassificationWiFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderClassificationWiFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderClassificationWiFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderClassificationWiFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderClassificationWiFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalOrderClassificationWiFinder.businessDateInfinity,false,false,BitemporalOrderClassificationWiFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BitemporalOrderClassificationWiFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalOrderClassificationWiFinder.processingDateInfinity,false,false,BitemporalOrderClassificationWiFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BitemporalOrderClassificationWiFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderWiFinder.BitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderWi, BitemporalOrderClassificationWi> order()
+		{
+			BitemporalOrderClassificationWiOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderWiFinder.zGetBitemporalOrderWiClassificationsMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderClassificationWiOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalOrderClassificationWiFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalOrderClassificationWiFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalOrderClassificationWiCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalOrderClassificationWiRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderClassificationWiList, OwnerType>
+	{
+		public BitemporalOrderClassificationWiCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalOrderClassificationWiCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalOrderClassificationWiCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderClassificationWiCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalOrderClassificationWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderClassificationWiRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderClassificationWiList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalOrderClassificationWiSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalOrderClassificationWiSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalOrderClassificationWi other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			.and(this.classificationId().eq(other.getClassificationId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrderClassificationWi findByPrimaryKey(int orderId, int classificationId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrderClassificationWi _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				_bean.setI2AsInteger(classificationId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderClassificationWi) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.classificationId().eq(classificationId)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalOrderClassificationWiSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderClassificationWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderClassificationWiSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to BITEMPORAL_ORDER_CLSFCN_WI.ORDER_ID **/
+	public static IntegerAttribute<BitemporalOrderClassificationWi> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_CLSFCN_WI.CLASSIFICATION_ID **/
+	public static IntegerAttribute<BitemporalOrderClassificationWi> classificationId()
+	{
+		return finder.classificationId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_CLSFCN_WI.DESCRIPTION **/
+	public static StringAttribute<BitemporalOrderClassificationWi> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to BITEMPORAL_ORDER_CLSFCN_WI.FROM_Z **/
+	public static TimestampAttribute<BitemporalOrderClassificationWi> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_CLSFCN_WI.THRU_Z **/
+	public static TimestampAttribute<BitemporalOrderClassificationWi> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to BITEMPORAL_ORDER_CLSFCN_WI.IN_Z **/
+	public static TimestampAttribute<BitemporalOrderClassificationWi> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_CLSFCN_WI.OUT_Z **/
+	public static TimestampAttribute<BitemporalOrderClassificationWi> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalOrderClassificationWi> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalOrderClassificationWi> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static BitemporalOrderWiFinder.BitemporalOrderWiSingleFinderForRelatedClasses<BitemporalOrderClassificationWi, BitemporalOrderWi, BitemporalOrderClassificationWi> order()
+	{
+		return finder.order();
+	}
+
+	public static class BitemporalOrderClassificationWiOrderFinderSubclass<ParentOwnerType> extends BitemporalOrderWiFinder.BitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderWi, BitemporalOrderClassificationWi>
+	{
+		public BitemporalOrderClassificationWiOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderWiFinder.orderId(),
+				BitemporalOrderWiFinder.businessDate(),
+				BitemporalOrderWiFinder.processingDate()).withExtractors(
+				BitemporalOrderClassificationWiFinder.orderId(),
+				BitemporalOrderClassificationWiFinder.businessDate(),
+				BitemporalOrderClassificationWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderClassificationWiOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderWi plainValueOf(BitemporalOrderClassificationWi _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected BitemporalOrderWiList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderClassificationWiList)_obj).getOrders();
+		}
+	}
+
+	public static Operation eq(BitemporalOrderClassificationWi other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static BitemporalOrderClassificationWiSingleFinder<BitemporalOrderClassificationWi, Object, BitemporalOrderClassificationWi> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, classificationId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+			, classificationId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderClassificationWi");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
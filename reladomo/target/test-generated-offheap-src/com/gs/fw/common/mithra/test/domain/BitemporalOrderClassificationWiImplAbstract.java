@@ -0,0 +1,711 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalOrderClassificationWiImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalOrderClassificationWiFinder.businessDate()
+	,
+		BitemporalOrderClassificationWiFinder.processingDate()
+	, BitemporalOrderClassificationWiFinder.zGetDoubleAttributes(),BitemporalOrderClassificationWiFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalOrderClassificationWi.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderWiFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderClassificationWiImpl _castedSrcObject = (BitemporalOrderClassificationWiImpl) _srcObject;
+			BitemporalOrderClassificationWiData _castedSrcData = (BitemporalOrderClassificationWiData) _srcData;
+			BitemporalOrderWiData _castedTargetData = (BitemporalOrderWiData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderClassificationWiData _castedSrcData = (BitemporalOrderClassificationWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public BitemporalOrderClassificationWiImplAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalOrderClassificationWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalOrderClassificationWiFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalOrderClassificationWiImplAbstract(Timestamp businessDate)
+	{
+		this(businessDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalOrderClassificationWiData zSynchronizedGetData()
+	{
+		return (BitemporalOrderClassificationWiData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalOrderClassificationWiFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalOrderClassificationWiFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public BitemporalOrderClassificationWiImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderClassificationWiImpl original = (BitemporalOrderClassificationWiImpl) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderClassificationWiImpl copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalOrderClassificationWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderClassificationWiImpl copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderClassificationWiImpl) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalOrderClassificationWiFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalOrderClassificationWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderClassificationWiImplAbstract result = (BitemporalOrderClassificationWiImplAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalOrderClassificationWiImpl ) result;
+	}
+
+	public BitemporalOrderClassificationWiImpl zFindOriginal()
+	{
+		BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData) this.currentData;
+		Operation op;
+		op = BitemporalOrderClassificationWiFinder.orderId().eq(data.getOrderId());
+		op = op.and(BitemporalOrderClassificationWiFinder.classificationId().eq(data.getClassificationId()));
+		op = op.and(BitemporalOrderClassificationWiFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalOrderClassificationWiFinder.processingDate().eq(this.getProcessingDate()));
+		return (BitemporalOrderClassificationWiImpl) BitemporalOrderClassificationWiFinder.findOne(op);
+	}
+
+	public BitemporalOrderClassificationWiImpl getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderClassificationWiImplAbstract result = (BitemporalOrderClassificationWiImplAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalOrderClassificationWiImpl ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalOrderClassificationWiImpl copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderClassificationWiImpl) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalOrderClassificationWiImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalOrderClassificationWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData) this.currentData;
+			Operation op = BitemporalOrderClassificationWiFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalOrderClassificationWiFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalOrderClassificationWiFinder.classificationId().eq(data.getClassificationId()));
+			op = op.and(BitemporalOrderClassificationWiFinder.orderId().eq(data.getOrderId()));
+			return BitemporalOrderClassificationWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isClassificationIdNull()
+	{
+		return this.zSynchronizedGetData().isClassificationIdNull();
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isDescriptionNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderClassificationWiFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderClassificationWiFinder.businessDateTo(), newValue, false );
+	}
+
+	public int getClassificationId()
+	{
+		return this.zSynchronizedGetData().getClassificationId();
+	}
+
+	public void setClassificationId(int newValue)
+	{
+		zSetInteger(BitemporalOrderClassificationWiFinder.classificationId(), newValue, true ,false);
+	}
+
+	public void setClassificationIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderClassificationWiFinder.classificationId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public String getDescription()
+	{
+		return this.zSynchronizedGetData().getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 50: " + newValue);
+		}
+
+		zSetString(BitemporalOrderClassificationWiFinder.description(), newValue, false );
+	}
+
+	public void setDescriptionUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 50: " + newValue);
+		}
+
+		zSetString(BitemporalOrderClassificationWiFinder.description(), newValue, false , exclusiveUntil);
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderClassificationWiFinder.orderId(), newValue, true ,false);
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderClassificationWiFinder.orderId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderClassificationWiFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderClassificationWiFinder.processingDateTo(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalOrderClassificationWiData data2 = (BitemporalOrderClassificationWiData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalOrderClassificationWiFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalOrderClassificationWiData _newData = (BitemporalOrderClassificationWiData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalOrderClassificationWiData _newData = (BitemporalOrderClassificationWiData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalOrderClassificationWiData _newData = (BitemporalOrderClassificationWiData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderWi.orderId</pre>
+	* @see BitemporalOrderWi#getClassifications() reverse relationship BitemporalOrderWi.getClassifications()
+	* @return The order
+	*/
+	public BitemporalOrderWi getOrder()
+	{
+		BitemporalOrderWiImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderClassificationWiData _data = (BitemporalOrderClassificationWiData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderClassificationWiFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderClassificationWiFinder.order().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderWiFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderWiImpl) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderClassificationWiFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(BitemporalOrderWi order)
+	{
+		BitemporalOrderWiImpl _order = (BitemporalOrderWiImpl) order;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderClassificationWiData _data = (BitemporalOrderClassificationWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(_order);
+			if (_order == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_order == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalOrderClassificationWiFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalOrderClassificationWiData.BitemporalOrderClassificationWiDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData) BitemporalOrderClassificationWiFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalOrderClassificationWi has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalOrderClassificationWiData( BitemporalOrderClassificationWiData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalOrderClassificationWiData( BitemporalOrderClassificationWiData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalOrderClassificationWiFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalOrderClassificationWiFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderClassificationWiImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalOrderClassificationWiImplAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderClassificationWiImplAbstract from = (BitemporalOrderClassificationWiImplAbstract) f;
+		BitemporalOrderClassificationWiData newData = from.zSynchronizedGetData();
+		this.setDescription(newData.getDescription());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderClassificationWiData _newData = (BitemporalOrderClassificationWiData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderClassificationWiData _newData = (BitemporalOrderClassificationWiData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalOrderClassificationWiImplAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderClassificationWiImplAbstract from = (BitemporalOrderClassificationWiImplAbstract)f;
+		BitemporalOrderClassificationWiData newData = from.zSynchronizedGetData();
+		this.setDescriptionUntil(newData.getDescription(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalOrderClassificationWiData newData = (BitemporalOrderClassificationWiData) d;
+		BitemporalOrderClassificationWiData data = (BitemporalOrderClassificationWiData) nd;
+		if (BitemporalOrderClassificationWiFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderClassificationWiFinder.classificationId(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderClassificationWiFinder.description(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderClassificationWiFinder.orderId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderClassificationWiFinder.classificationId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderClassificationWiFinder.description(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderClassificationWiFinder.orderId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderClassificationWiData data = ((BitemporalOrderClassificationWiData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderClassificationWiData data = ((BitemporalOrderClassificationWiData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderClassificationWiData data = ((BitemporalOrderClassificationWiData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalOrderClassificationWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalOrderClassificationWiFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderClassificationWiData localData = (BitemporalOrderClassificationWiData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,182 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderClassificationWiListImplAbstract extends DelegatingList<BitemporalOrderClassificationWi> implements MithraDatedTransactionalList<BitemporalOrderClassificationWi>
+{
+	public BitemporalOrderClassificationWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderClassificationWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderClassificationWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderClassificationWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderClassificationWi[] elements()
+	{
+		BitemporalOrderClassificationWi[] result = new BitemporalOrderClassificationWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderClassificationWiListImpl intersection(BitemporalOrderClassificationWiListImpl another)
+	{
+		return (BitemporalOrderClassificationWiListImpl)super.intersection(another);
+	}
+
+	public BitemporalOrderClassificationWiImpl getBitemporalOrderClassificationWiAt(int index)
+	{
+		return (BitemporalOrderClassificationWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderWi.orderId</pre>
+	* @see BitemporalOrderWi#getClassifications() reverse relationship BitemporalOrderWi.getClassifications()
+	* @return The order
+	*/
+	public BitemporalOrderWiList getOrders()
+	{
+		return (BitemporalOrderWiList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderClassificationWiFinder.order());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderClassificationWiFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderClassificationWiListImpl getNonPersistentCopy()
+	{
+		BitemporalOrderClassificationWiListImpl result = new BitemporalOrderClassificationWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderClassificationWiListImpl asAdhoc()
+	{
+		return (BitemporalOrderClassificationWiListImpl) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderClassificationWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderClassificationWiListImpl merge(MithraTransactionalList<BitemporalOrderClassificationWi> incoming, TopLevelMergeOptions<BitemporalOrderClassificationWi> mergeOptions)
+	{
+		return (BitemporalOrderClassificationWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderClassificationWiListImpl getDetachedCopy()
+	{
+		BitemporalOrderClassificationWiListImpl result = new BitemporalOrderClassificationWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderClassificationWiFinder.orderId(), newValue);
+	}
+
+	public void setClassificationId(int newValue)
+	{
+		zSetInteger(BitemporalOrderClassificationWiFinder.classificationId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(BitemporalOrderClassificationWiFinder.description(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderClassificationWiFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderClassificationWiFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderClassificationWiFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderClassificationWiFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1625 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface BitemporalOrderData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 68;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isDescriptionNull();
+	String getDescription();
+	void setDescription(String value);
+	void setDescriptionNull();
+	int zGetDescriptionAsInt();
+	boolean isOrderDateNull();
+	Timestamp getOrderDate();
+	void setOrderDate(Timestamp value);
+	void setOrderDateNull();
+	long zGetOrderDateAsLong();
+	boolean isOrderIdNull();
+	int getOrderId();
+	void setOrderId(int value);
+	void setOrderIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isStateNull();
+	String getState();
+	void setState(String value);
+	void setStateNull();
+	int zGetStateAsInt();
+	boolean isTrackingIdNull();
+	String getTrackingId();
+	void setTrackingId(String value);
+	void setTrackingIdNull();
+	int zGetTrackingIdAsInt();
+	boolean isUserIdNull();
+	int getUserId();
+	void setUserId(int value);
+	void setUserIdNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getItems();
+	void setItems(Object related);
+	Object getOrderStatus();
+	void setOrderStatus(Object related);
+	Object getUnconfiguredOrderStatus();
+	void setUnconfiguredOrderStatus(Object related);
+	Object getOrderStatusViaUnconfiguredJoin();
+	void setOrderStatusViaUnconfiguredJoin(Object related);
+	Object getOrderStatusWithUnconfiguredFilter();
+	void setOrderStatusWithUnconfiguredFilter(Object related);
+	Object getOrderStatusViaJoin();
+	void setOrderStatusViaJoin(Object related);
+	Object getOrderStatusViaJoinWithFilter();
+	void setOrderStatusViaJoinWithFilter(Object related);
+	Object getOrderStatusWithFilter();
+	void setOrderStatusWithFilter(Object related);
+	Object getOrderStatusWithFixedOrderId();
+	void setOrderStatusWithFixedOrderId(Object related);
+	Object getSale();
+	void setSale(Object related);
+	Object getSaleWithUserId();
+	void setSaleWithUserId(Object related);
+	public class BitemporalOrderDataOnHeap implements BitemporalOrderData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private String description;
+		private Timestamp orderDate;
+		private int orderId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String state;
+		private String trackingId;
+		private int userId;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isDescriptionNull()
+		{
+			return this.getDescription() == null;
+		}
+
+		public boolean isOrderDateNull()
+		{
+			return this.getOrderDate() == null;
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStateNull()
+		{
+			return this.getState() == null;
+		}
+
+		public boolean isTrackingIdNull()
+		{
+			return this.getTrackingId() == null;
+		}
+
+		public boolean isUserIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalOrderFinder.businessDate().getInfinityDate());
+			out.writeObject(this.description);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.orderDate);
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalOrderFinder.processingDate().getInfinityDate());
+			out.writeObject(this.state);
+			out.writeObject(this.trackingId);
+			out.writeInt(this.userId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getDescription()
+		{
+			return this.description;
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+		}
+
+		public void setDescription(String value)
+		{
+			this.description = StringPool.getInstance().getOrAddToCache(value, BitemporalOrderFinder.isFullCache());
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public Timestamp getOrderDate()
+		{
+			return this.orderDate;
+		}
+
+		public long zGetOrderDateAsLong()
+		{
+			if (orderDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return orderDate.getTime();
+		}
+
+		public void setOrderDate(Timestamp value)
+		{
+			this.orderDate = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+		}
+
+		public void setOrderDateNull()
+		{
+			this.setOrderDate(null);
+		}
+
+		public int getOrderId()
+		{
+			return this.orderId;
+		}
+
+		public void setOrderId(int value)
+		{
+			this.orderId = value;
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getState()
+		{
+			return this.state;
+		}
+
+		public int zGetStateAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+		}
+
+		public void setState(String value)
+		{
+			this.state = StringPool.getInstance().getOrAddToCache(value, BitemporalOrderFinder.isFullCache());
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public String getTrackingId()
+		{
+			return this.trackingId;
+		}
+
+		public int zGetTrackingIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(trackingId);
+		}
+
+		public void setTrackingId(String value)
+		{
+			this.trackingId = StringPool.getInstance().getOrAddToCache(value, BitemporalOrderFinder.isFullCache());
+		}
+
+		public void setTrackingIdNull()
+		{
+			this.setTrackingId(null);
+		}
+
+		public int getUserId()
+		{
+			return this.userId;
+		}
+
+		public void setUserId(int value)
+		{
+			this.userId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setUserIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(BitemporalOrderDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.description = this.description;
+			copy.orderDate = this.orderDate;
+			copy.orderId = this.orderId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.state = this.state;
+			copy.trackingId = this.trackingId;
+			copy.userId = this.userId;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[11];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderFinder.businessDate().getInfinityDate()), BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+			this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BitemporalOrderFinder.isFullCache());
+			this.orderDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderFinder.processingDate().getInfinityDate()), BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+			this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BitemporalOrderFinder.isFullCache());
+			this.trackingId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BitemporalOrderFinder.isFullCache());
+			this.userId = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final BitemporalOrderData otherData = (BitemporalOrderData) other;
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalOrderFinder.businessDate().getInfinityDate());
+			out.writeInt(this.orderId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalOrderFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderFinder.businessDate().getInfinityDate()), BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+			this.orderId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderFinder.processingDate().getInfinityDate()), BitemporalOrderFinder.isFullCache(), BitemporalOrderFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getItems()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setItems(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getOrderStatus()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setOrderStatus(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getUnconfiguredOrderStatus()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[10];
+			}
+
+			return null;
+		}
+
+		public void setUnconfiguredOrderStatus(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[10] = related;
+		}
+
+		public Object getOrderStatusViaUnconfiguredJoin()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[4];
+			}
+
+			return null;
+		}
+
+		public void setOrderStatusViaUnconfiguredJoin(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[4] = related;
+		}
+
+		public Object getOrderStatusWithUnconfiguredFilter()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[7];
+			}
+
+			return null;
+		}
+
+		public void setOrderStatusWithUnconfiguredFilter(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[7] = related;
+		}
+
+		public Object getOrderStatusViaJoin()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[2];
+			}
+
+			return null;
+		}
+
+		public void setOrderStatusViaJoin(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[2] = related;
+		}
+
+		public Object getOrderStatusViaJoinWithFilter()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[3];
+			}
+
+			return null;
+		}
+
+		public void setOrderStatusViaJoinWithFilter(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[3] = related;
+		}
+
+		public Object getOrderStatusWithFilter()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[5];
+			}
+
+			return null;
+		}
+
+		public void setOrderStatusWithFilter(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[5] = related;
+		}
+
+		public Object getOrderStatusWithFixedOrderId()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[6];
+			}
+
+			return null;
+		}
+
+		public void setOrderStatusWithFixedOrderId(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[6] = related;
+		}
+
+		public Object getSale()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[8];
+			}
+
+			return null;
+		}
+
+		public void setSale(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[8] = related;
+		}
+
+		public Object getSaleWithUserId()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[9];
+			}
+
+			return null;
+		}
+
+		public void setSaleWithUserId(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[11];
+			}
+
+			_relationships[9] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			BitemporalOrderDataOffHeap data = new BitemporalOrderDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setDescription(this.getDescription());
+			data.setOrderDate(this.getOrderDate());
+			data.setOrderId(this.getOrderId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setState(this.getState());
+			data.setTrackingId(this.getTrackingId());
+			data.setUserId(this.getUserId());
+			if (this.isUserIdNull()) data.setUserIdNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final BitemporalOrderData bitemporalOrderData = (BitemporalOrderData) newData;
+			this.setBusinessDateFrom(bitemporalOrderData.getBusinessDateFrom());
+			this.setBusinessDateTo(bitemporalOrderData.getBusinessDateTo());
+			this.setDescription(bitemporalOrderData.getDescription());
+			this.setOrderDate(bitemporalOrderData.getOrderDate());
+			this.setProcessingDateFrom(bitemporalOrderData.getProcessingDateFrom());
+			this.setProcessingDateTo(bitemporalOrderData.getProcessingDateTo());
+			this.setState(bitemporalOrderData.getState());
+			this.setTrackingId(bitemporalOrderData.getTrackingId());
+			this.setUserId(bitemporalOrderData.getUserId());
+			if (bitemporalOrderData.isUserIdNull()) this.setUserIdNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final BitemporalOrderData other = (BitemporalOrderData) newData;
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			if (!isTrackingIdNull() ? !getTrackingId().equals(other.getTrackingId()) : !other.isTrackingIdNull())
+			{
+				return true;
+			}
+
+			if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			BitemporalOrderDataOnHeap copy = new BitemporalOrderDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			BitemporalOrderDataOnHeap copy = new BitemporalOrderDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			BitemporalOrderData otherData = (BitemporalOrderData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			BitemporalOrderData otherData = (BitemporalOrderData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return BitemporalOrderFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return BitemporalOrderFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderData";
+		}
+	}
+
+	public class BitemporalOrderDataOffHeap extends MithraOffHeapDataObject implements BitemporalOrderData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public BitemporalOrderDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 32);
+			this.zSetTimestamp(_storage, value, 40);
+			this.zSetTimestamp(_storage, value, 48);
+		}
+
+		public BitemporalOrderDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isDescriptionNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isOrderDateNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isOrderIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 48);
+		}
+
+		public boolean isStateNull()
+		{
+			return zIsStringNull(_storage, 56);
+		}
+
+		public boolean isTrackingIdNull()
+		{
+			return zIsStringNull(_storage, 60);
+		}
+
+		public boolean isUserIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), BitemporalOrderFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getDescription());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetOrderDateAsLong());
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), BitemporalOrderFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getState());
+			out.writeObject(this.getTrackingId());
+			out.writeInt(this.getUserId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isUserIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getDescription()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setDescription(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public Timestamp getOrderDate()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetOrderDateAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setOrderDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setOrderDateNull()
+		{
+			this.setOrderDate(null);
+		}
+
+		public int getOrderId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setOrderId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setOrderIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 48);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 48);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 48);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getState()
+		{
+			return zGetString(_storage, 56);
+		}
+
+		public int zGetStateAsInt()
+		{
+			return zGetInteger(_storage, 56);
+		}
+
+		public void setState(String value)
+		{
+			zSetString(_storage, value, 56);
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public String getTrackingId()
+		{
+			return zGetString(_storage, 60);
+		}
+
+		public int zGetTrackingIdAsInt()
+		{
+			return zGetInteger(_storage, 60);
+		}
+
+		public void setTrackingId(String value)
+		{
+			zSetString(_storage, value, 60);
+		}
+
+		public void setTrackingIdNull()
+		{
+			this.setTrackingId(null);
+		}
+
+		public int getUserId()
+		{
+			return zGetInteger(_storage, 64);
+		}
+
+		public void setUserId(int value)
+		{
+			zSetInteger(_storage, value, 64, 4, 0);
+		}
+
+		public void setUserIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(BitemporalOrderDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.description = this.getDescription();
+			copy.orderDate = this.getOrderDate();
+			copy.orderId = this.getOrderId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.state = this.getState();
+			copy.trackingId = this.getTrackingId();
+			copy.userId = this.getUserId();
+			if (isUserIdNull())
+			{
+				copy.setUserIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetString(_storage, (String)in.readObject(), 56);
+			zSetString(_storage, (String)in.readObject(), 60);
+			zSetInteger(_storage, in.readInt(), 64, 4, 0, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof BitemporalOrderDataOffHeap)
+			{
+				final BitemporalOrderDataOffHeap otherData = (BitemporalOrderDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final BitemporalOrderData otherData = (BitemporalOrderData) other;
+			if (getOrderId() != otherData.getOrderId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), BitemporalOrderFinder.businessDate().getInfinityDate());
+			out.writeInt(this.getOrderId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), BitemporalOrderFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getItems()
+		{
+			return null;
+		}
+
+		public void setItems(Object related)
+		{
+		}
+
+		public Object getOrderStatus()
+		{
+			return null;
+		}
+
+		public void setOrderStatus(Object related)
+		{
+		}
+
+		public Object getUnconfiguredOrderStatus()
+		{
+			return null;
+		}
+
+		public void setUnconfiguredOrderStatus(Object related)
+		{
+		}
+
+		public Object getOrderStatusViaUnconfiguredJoin()
+		{
+			return null;
+		}
+
+		public void setOrderStatusViaUnconfiguredJoin(Object related)
+		{
+		}
+
+		public Object getOrderStatusWithUnconfiguredFilter()
+		{
+			return null;
+		}
+
+		public void setOrderStatusWithUnconfiguredFilter(Object related)
+		{
+		}
+
+		public Object getOrderStatusViaJoin()
+		{
+			return null;
+		}
+
+		public void setOrderStatusViaJoin(Object related)
+		{
+		}
+
+		public Object getOrderStatusViaJoinWithFilter()
+		{
+			return null;
+		}
+
+		public void setOrderStatusViaJoinWithFilter(Object related)
+		{
+		}
+
+		public Object getOrderStatusWithFilter()
+		{
+			return null;
+		}
+
+		public void setOrderStatusWithFilter(Object related)
+		{
+		}
+
+		public Object getOrderStatusWithFixedOrderId()
+		{
+			return null;
+		}
+
+		public void setOrderStatusWithFixedOrderId(Object related)
+		{
+		}
+
+		public Object getSale()
+		{
+			return null;
+		}
+
+		public void setSale(Object related)
+		{
+		}
+
+		public Object getSaleWithUserId()
+		{
+			return null;
+		}
+
+		public void setSaleWithUserId(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final BitemporalOrderData bitemporalOrderData = (BitemporalOrderData) newData;
+			this.setBusinessDateFrom(bitemporalOrderData.getBusinessDateFrom());
+			this.setBusinessDateTo(bitemporalOrderData.getBusinessDateTo());
+			this.setDescription(bitemporalOrderData.getDescription());
+			this.setOrderDate(bitemporalOrderData.getOrderDate());
+			this.setProcessingDateFrom(bitemporalOrderData.getProcessingDateFrom());
+			this.setProcessingDateTo(bitemporalOrderData.getProcessingDateTo());
+			this.setState(bitemporalOrderData.getState());
+			this.setTrackingId(bitemporalOrderData.getTrackingId());
+			this.setUserId(bitemporalOrderData.getUserId());
+			if (bitemporalOrderData.isUserIdNull()) this.setUserIdNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final BitemporalOrderData other = (BitemporalOrderData) newData;
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			if (!isTrackingIdNull() ? !getTrackingId().equals(other.getTrackingId()) : !other.isTrackingIdNull())
+			{
+				return true;
+			}
+
+			if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			BitemporalOrderDataOnHeap copy = new BitemporalOrderDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			BitemporalOrderDataOnHeap copy = new BitemporalOrderDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "orderId: "+(""+getOrderId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			BitemporalOrderData otherData = (BitemporalOrderData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			BitemporalOrderData otherData = (BitemporalOrderData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return BitemporalOrderFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return BitemporalOrderFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderData";
+		}
+	}
+}
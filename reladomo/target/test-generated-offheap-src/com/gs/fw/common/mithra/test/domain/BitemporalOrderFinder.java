@@ -0,0 +1,2852 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalOrderFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalOrder";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalOrder";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrder");
+	private static final BitemporalOrderSingleFinder<BitemporalOrder, Object, BitemporalOrder> finder = new BitemporalOrderSingleFinder<BitemporalOrder, Object, BitemporalOrder>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byTrackingId = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalOrderFinder.BitemporalOrderRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("orderStatus");
+		finderMethodMap.addRelationshipName("unconfiguredOrderStatus");
+		finderMethodMap.addRelationshipName("orderStatusViaUnconfiguredJoin");
+		finderMethodMap.addRelationshipName("orderStatusWithUnconfiguredFilter");
+		finderMethodMap.addRelationshipName("orderStatusViaJoin");
+		finderMethodMap.addRelationshipName("orderStatusViaJoinWithFilter");
+		finderMethodMap.addRelationshipName("orderStatusWithFilter");
+		finderMethodMap.addRelationshipName("orderStatusWithFixedOrderId");
+		finderMethodMap.addRelationshipName("sale");
+		finderMethodMap.addRelationshipName("saleWithUserId");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[34];
+			result[0] = BitemporalOrderFinder.orderId().constructEqualityMapper(BitemporalOrderItemFinder.orderId());
+			result[1] = BitemporalOrderItemFinder.orderId().constructEqualityMapper(BitemporalOrderFinder.orderId());
+			result[2] = BitemporalOrderFinder.businessDate().constructEqualityMapper(BitemporalOrderItemFinder.businessDate());
+			result[3] = BitemporalOrderItemFinder.businessDate().constructEqualityMapper(BitemporalOrderFinder.businessDate());
+			result[4] = BitemporalOrderFinder.processingDate().constructEqualityMapper(BitemporalOrderItemFinder.processingDate());
+			result[5] = BitemporalOrderItemFinder.processingDate().constructEqualityMapper(BitemporalOrderFinder.processingDate());
+			result[6] = BitemporalOrderFinder.orderId().constructEqualityMapper(BitemporalOrderStatusFinder.orderId());
+			result[7] = BitemporalOrderStatusFinder.orderId().constructEqualityMapper(BitemporalOrderFinder.orderId());
+			result[8] = BitemporalOrderFinder.businessDate().constructEqualityMapper(BitemporalOrderStatusFinder.businessDate());
+			result[9] = BitemporalOrderStatusFinder.businessDate().constructEqualityMapper(BitemporalOrderFinder.businessDate());
+			result[10] = BitemporalOrderFinder.processingDate().constructEqualityMapper(BitemporalOrderStatusFinder.processingDate());
+			result[11] = BitemporalOrderStatusFinder.processingDate().constructEqualityMapper(BitemporalOrderFinder.processingDate());
+			result[12] = BitemporalOrderFinder.orderId().constructEqualityMapper(UnconfiguredBitemporalOrderStatusFinder.orderId());
+			result[13] = UnconfiguredBitemporalOrderStatusFinder.orderId().constructEqualityMapper(BitemporalOrderFinder.orderId());
+			result[14] = BitemporalOrderFinder.businessDate().constructEqualityMapper(UnconfiguredBitemporalOrderStatusFinder.businessDate());
+			result[15] = UnconfiguredBitemporalOrderStatusFinder.businessDate().constructEqualityMapper(BitemporalOrderFinder.businessDate());
+			result[16] = BitemporalOrderFinder.processingDate().constructEqualityMapper(UnconfiguredBitemporalOrderStatusFinder.processingDate());
+			result[17] = UnconfiguredBitemporalOrderStatusFinder.processingDate().constructEqualityMapper(BitemporalOrderFinder.processingDate());
+			result[18] = BitemporalOrderFinder.orderId().constructEqualityMapper(UnconfiguredBitemporalOrderToOrderStatusFinder.orderId());
+			result[19] = UnconfiguredBitemporalOrderToOrderStatusFinder.orderId().constructEqualityMapper(BitemporalOrderFinder.orderId());
+			result[20] = BitemporalOrderFinder.businessDate().constructEqualityMapper(UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate());
+			result[21] = UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate().constructEqualityMapper(BitemporalOrderFinder.businessDate());
+			result[22] = BitemporalOrderFinder.processingDate().constructEqualityMapper(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate());
+			result[23] = UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate().constructEqualityMapper(BitemporalOrderFinder.processingDate());
+			result[24] = BitemporalOrderFinder.orderId().constructEqualityMapper(BitemporalOrderToOrderStatusFinder.orderId());
+			result[25] = BitemporalOrderToOrderStatusFinder.orderId().constructEqualityMapper(BitemporalOrderFinder.orderId());
+			result[26] = BitemporalOrderFinder.businessDate().constructEqualityMapper(BitemporalOrderToOrderStatusFinder.businessDate());
+			result[27] = BitemporalOrderToOrderStatusFinder.businessDate().constructEqualityMapper(BitemporalOrderFinder.businessDate());
+			result[28] = BitemporalOrderFinder.processingDate().constructEqualityMapper(BitemporalOrderToOrderStatusFinder.processingDate());
+			result[29] = BitemporalOrderToOrderStatusFinder.processingDate().constructEqualityMapper(BitemporalOrderFinder.processingDate());
+			result[30] = BitemporalOrderFinder.orderId().constructEqualityMapper(SaleFinder.saleId());
+			result[31] = SaleFinder.saleId().constructEqualityMapper(BitemporalOrderFinder.orderId());
+			result[32] = BitemporalOrderFinder.userId().constructEqualityMapper(SaleFinder.saleId());
+			result[33] = SaleFinder.saleId().constructEqualityMapper(BitemporalOrderFinder.userId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalOrder findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalOrderList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderList) finder.findMany(operation);
+	}
+
+	public static BitemporalOrderList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderList) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalOrder findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalOrder) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalOrder findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderData _castedTargetData = (BitemporalOrderData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return BitemporalOrderFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BitemporalOrder findByTrackingId(String trackingId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByTrackingId(trackingId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forTrackingId = new TrackingIdRhs();
+	private static final class TrackingIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderData _castedTargetData = (BitemporalOrderData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getTrackingId()))
+			{
+				return BitemporalOrderFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static BitemporalOrder zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalOrder) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalOrderRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalOrder, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements DatedOrderableFinder<BitemporalOrder>, DatedOrderItemRelationInterfaceFinder<BitemporalOrder>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private BitemporalOrderItemsFinderSubclass<ParentOwnerType> items;
+		private BitemporalOrderOrderStatusFinderSubclass<ParentOwnerType> orderStatus;
+		private BitemporalOrderUnconfiguredOrderStatusFinderSubclass<ParentOwnerType> unconfiguredOrderStatus;
+		private BitemporalOrderOrderStatusViaUnconfiguredJoinFinderSubclass<ParentOwnerType> orderStatusViaUnconfiguredJoin;
+		private BitemporalOrderOrderStatusWithUnconfiguredFilterFinderSubclass<ParentOwnerType> orderStatusWithUnconfiguredFilter;
+		private BitemporalOrderOrderStatusViaJoinFinderSubclass<ParentOwnerType> orderStatusViaJoin;
+		private BitemporalOrderOrderStatusViaJoinWithFilterFinderSubclass<ParentOwnerType> orderStatusViaJoinWithFilter;
+		private BitemporalOrderOrderStatusWithFilterFinderSubclass<ParentOwnerType> orderStatusWithFilter;
+		private BitemporalOrderOrderStatusWithFixedOrderIdFinderSubclass<ParentOwnerType> orderStatusWithFixedOrderId;
+		private BitemporalOrderSaleFinderSubclass<ParentOwnerType> sale;
+		private BitemporalOrderSaleWithUserIdFinderSubclass<ParentOwnerType> saleWithUserId;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalOrderRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalOrderRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalOrderFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalOrderFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalOrderFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			attributes[6] = this.businessDateFrom();
+			attributes[7] = this.businessDateTo();
+			attributes[8] = this.processingDateFrom();
+			attributes[9] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(11);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.orderStatus());
+				relatedFinders.add(this.unconfiguredOrderStatus());
+				relatedFinders.add(this.orderStatusViaUnconfiguredJoin());
+				relatedFinders.add(this.orderStatusWithUnconfiguredFilter());
+				relatedFinders.add(this.orderStatusViaJoin());
+				relatedFinders.add(this.orderStatusViaJoinWithFilter());
+				relatedFinders.add(this.orderStatusWithFilter());
+				relatedFinders.add(this.orderStatusWithFixedOrderId());
+				relatedFinders.add(this.sale());
+				relatedFinders.add(this.saleWithUserId());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.orderStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalOrder findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderFinder.findOne(operation, false);
+		}
+
+		public BitemporalOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalOrder> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalOrderList((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalOrder> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalOrderList result = (BitemporalOrderList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalOrder> constructEmptyList()
+		{
+			return new BitemporalOrderList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1841511879;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,64,4,0,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderFinder.userId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("saleWithUserId");
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,50,true, false) :
+					new MappedStringAttribute(BitemporalOrderFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,56,-1,-1,20,true, false) :
+					new MappedStringAttribute(BitemporalOrderFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,60,-1,-1,15,true, false) :
+					new MappedStringAttribute(BitemporalOrderFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalOrderFinder.businessDateInfinity,false,false,BitemporalOrderFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BitemporalOrderFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalOrderFinder.processingDateInfinity,false,false,BitemporalOrderFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BitemporalOrderFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemList, BitemporalOrder> items()
+		{
+			BitemporalOrderItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BitemporalOrderItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder> orderStatus()
+		{
+			BitemporalOrderOrderStatusFinderSubclass<ParentOwnerType> result = this.orderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus = result;
+			}
+
+			return result;
+		}
+
+		public UnconfiguredBitemporalOrderStatusFinder.UnconfiguredBitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, UnconfiguredBitemporalOrderStatus, BitemporalOrder> unconfiguredOrderStatus()
+		{
+			BitemporalOrderUnconfiguredOrderStatusFinderSubclass<ParentOwnerType> result = this.unconfiguredOrderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderUnconfiguredOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderUnconfiguredOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.unconfiguredOrderStatus = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemFinder.BitemporalOrderItemSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItem, BitemporalOrder> itemForProduct(int productId)
+		{
+			BitemporalOrderItemForProductFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderItemForProductReverseMapper(productId));
+			newMapper.setToMany(false);
+			result = new BitemporalOrderItemForProductFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productId);
+			return result;
+		}
+
+		public BitemporalOrderItemFinder.BitemporalOrderItemSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItem, BitemporalOrder> itemForProductSet(IntHashSet productIds)
+		{
+			BitemporalOrderItemForProductSetFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderItemForProductSetReverseMapper(productIds));
+			newMapper.setToMany(false);
+			result = new BitemporalOrderItemForProductSetFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productIds);
+			return result;
+		}
+
+		public BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder> orderStatusViaUnconfiguredJoin()
+		{
+			BitemporalOrderOrderStatusViaUnconfiguredJoinFinderSubclass<ParentOwnerType> result = this.orderStatusViaUnconfiguredJoin;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusViaUnconfiguredJoinReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderOrderStatusViaUnconfiguredJoinFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusViaUnconfiguredJoin = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder> orderStatusWithUnconfiguredFilter()
+		{
+			BitemporalOrderOrderStatusWithUnconfiguredFilterFinderSubclass<ParentOwnerType> result = this.orderStatusWithUnconfiguredFilter;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusWithUnconfiguredFilterReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderOrderStatusWithUnconfiguredFilterFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusWithUnconfiguredFilter = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder> orderStatusViaJoin()
+		{
+			BitemporalOrderOrderStatusViaJoinFinderSubclass<ParentOwnerType> result = this.orderStatusViaJoin;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusViaJoinReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderOrderStatusViaJoinFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusViaJoin = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder> orderStatusViaJoinWithFilter()
+		{
+			BitemporalOrderOrderStatusViaJoinWithFilterFinderSubclass<ParentOwnerType> result = this.orderStatusViaJoinWithFilter;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusViaJoinWithFilterReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderOrderStatusViaJoinWithFilterFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusViaJoinWithFilter = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder> orderStatusWithFilter()
+		{
+			BitemporalOrderOrderStatusWithFilterFinderSubclass<ParentOwnerType> result = this.orderStatusWithFilter;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusWithFilterReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderOrderStatusWithFilterFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusWithFilter = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder> orderStatusWithFixedOrderId()
+		{
+			BitemporalOrderOrderStatusWithFixedOrderIdFinderSubclass<ParentOwnerType> result = this.orderStatusWithFixedOrderId;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusWithFixedOrderIdReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderOrderStatusWithFixedOrderIdFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusWithFixedOrderId = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemList, BitemporalOrder> expensiveItems(double price)
+		{
+			BitemporalOrderExpensiveItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderExpensiveItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new BitemporalOrderExpensiveItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, BitemporalOrder> cheapItems(double price)
+		{
+			BitemporalOrderCheapItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderCheapItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new BitemporalOrderCheapItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, BitemporalOrder> sale()
+		{
+			BitemporalOrderSaleFinderSubclass<ParentOwnerType> result = this.sale;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderSaleReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderSaleFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.sale = result;
+			}
+
+			return result;
+		}
+
+		public SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, BitemporalOrder> saleWithUserId()
+		{
+			BitemporalOrderSaleWithUserIdFinderSubclass<ParentOwnerType> result = this.saleWithUserId;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderSaleWithUserIdReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderSaleWithUserIdFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.saleWithUserId = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalOrderFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalOrderFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalOrderCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalOrderRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderList, OwnerType>
+	{
+		public BitemporalOrderCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalOrderCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalOrderCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalOrderSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalOrderSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalOrder other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrder findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrder) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrder findByTrackingId(String trackingId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (trackingId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(trackingId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forTrackingId, businessDate, processingDate, BitemporalOrderFinder.zGetIndexbyTrackingIdRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrder) _related;
+			if (_related == null)
+			{
+				_op = this.trackingId().eq(trackingId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructBitemporalOrderItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetBitemporalOrderItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructBitemporalOrderItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructBitemporalOrderItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemsPureReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemsReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemsMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(1));
+		itemsMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(12));
+		itemsMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(14));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper orderStatusReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusReverseMapper()
+	{
+		if (orderStatusReverseMapper == null)
+		{
+			orderStatusReverseMapper = zConstructBitemporalOrderOrderStatusReverseMapper();
+		}
+
+		return orderStatusReverseMapper;
+	}
+
+	private static Mapper orderStatusMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusMapper()
+	{
+		if (orderStatusMapper == null)
+		{
+			orderStatusMapper = zConstructBitemporalOrderOrderStatusMapper();
+		}
+
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusPureReverseMapper()
+	{
+		if (orderStatusPureReverseMapper == null)
+		{
+			orderStatusPureReverseMapper = zConstructBitemporalOrderOrderStatusPureReverseMapper();
+		}
+
+		return orderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusPureReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(6));
+		orderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(8));
+		orderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(6));
+		orderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(8));
+		orderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(7));
+		orderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(9));
+		orderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(11));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("order");
+		return orderStatusMapper;
+	}
+
+	private static Mapper unconfiguredOrderStatusReverseMapper = null;
+	public static Mapper zGetBitemporalOrderUnconfiguredOrderStatusReverseMapper()
+	{
+		if (unconfiguredOrderStatusReverseMapper == null)
+		{
+			unconfiguredOrderStatusReverseMapper = zConstructBitemporalOrderUnconfiguredOrderStatusReverseMapper();
+		}
+
+		return unconfiguredOrderStatusReverseMapper;
+	}
+
+	private static Mapper unconfiguredOrderStatusMapper = null;
+	public static Mapper zGetBitemporalOrderUnconfiguredOrderStatusMapper()
+	{
+		if (unconfiguredOrderStatusMapper == null)
+		{
+			unconfiguredOrderStatusMapper = zConstructBitemporalOrderUnconfiguredOrderStatusMapper();
+		}
+
+		return unconfiguredOrderStatusMapper;
+	}
+
+	private static Mapper unconfiguredOrderStatusPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderUnconfiguredOrderStatusPureReverseMapper()
+	{
+		if (unconfiguredOrderStatusPureReverseMapper == null)
+		{
+			unconfiguredOrderStatusPureReverseMapper = zConstructBitemporalOrderUnconfiguredOrderStatusPureReverseMapper();
+		}
+
+		return unconfiguredOrderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderUnconfiguredOrderStatusPureReverseMapper()
+	{
+		InternalList unconfiguredOrderStatusMapperMapperList = new InternalList(3);
+		unconfiguredOrderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(12));
+		unconfiguredOrderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(14));
+		unconfiguredOrderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(16));
+		Mapper unconfiguredOrderStatusMapper = new MultiEqualityMapper(unconfiguredOrderStatusMapperMapperList);
+		unconfiguredOrderStatusMapper.setName("unconfiguredOrderStatus");
+		return unconfiguredOrderStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderUnconfiguredOrderStatusReverseMapper()
+	{
+		InternalList unconfiguredOrderStatusMapperMapperList = new InternalList(3);
+		unconfiguredOrderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(12));
+		unconfiguredOrderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(14));
+		unconfiguredOrderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(16));
+		Mapper unconfiguredOrderStatusMapper = new MultiEqualityMapper(unconfiguredOrderStatusMapperMapperList);
+		unconfiguredOrderStatusMapper.setName("unconfiguredOrderStatus");
+		return unconfiguredOrderStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderUnconfiguredOrderStatusMapper()
+	{
+		InternalList unconfiguredOrderStatusMapperMapperList = new InternalList(3);
+		unconfiguredOrderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(13));
+		unconfiguredOrderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(15));
+		unconfiguredOrderStatusMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(17));
+		Mapper unconfiguredOrderStatusMapper = new MultiEqualityMapper(unconfiguredOrderStatusMapperMapperList);
+		unconfiguredOrderStatusMapper.setName("unconfiguredOrderStatus_Reverse");
+		return unconfiguredOrderStatusMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderItemForProductReverseMapper(int productId)
+	{
+		return zConstructBitemporalOrderItemForProductReverseMapper(productId);
+	}
+
+	public static Mapper zGetBitemporalOrderItemForProductMapper(int productId)
+	{
+		return zConstructBitemporalOrderItemForProductMapper(productId);
+	}
+
+	private static Mapper itemForProductPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemForProductPureReverseMapper()
+	{
+		if (itemForProductPureReverseMapper == null)
+		{
+			itemForProductPureReverseMapper = zConstructBitemporalOrderItemForProductPureReverseMapper();
+		}
+
+		return itemForProductPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemForProductPureReverseMapper()
+	{
+		InternalList itemForProductMapperMapperList = new InternalList(3);
+		itemForProductMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		itemForProductMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		itemForProductMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper itemForProductMapper = new MultiEqualityMapper(itemForProductMapperMapperList);
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemForProductReverseMapper(int productId)
+	{
+		InternalList itemForProductMapperMapperList = new InternalList(3);
+		itemForProductMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		itemForProductMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		itemForProductMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper itemForProductMapper = new MultiEqualityMapper(itemForProductMapperMapperList);
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemForProductMapper(int productId)
+	{
+		InternalList itemForProductMapperMapperList = new InternalList(3);
+		itemForProductMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(1));
+		itemForProductMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(12));
+		itemForProductMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(14));
+		Mapper itemForProductMapper = new MultiEqualityMapper(itemForProductMapperMapperList);
+		itemForProductMapper.setName("itemForProduct_Reverse");
+		return itemForProductMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderItemForProductSetReverseMapper(IntHashSet productIds)
+	{
+		return zConstructBitemporalOrderItemForProductSetReverseMapper(productIds);
+	}
+
+	public static Mapper zGetBitemporalOrderItemForProductSetMapper(IntHashSet productIds)
+	{
+		return zConstructBitemporalOrderItemForProductSetMapper(productIds);
+	}
+
+	private static Mapper itemForProductSetPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemForProductSetPureReverseMapper()
+	{
+		if (itemForProductSetPureReverseMapper == null)
+		{
+			itemForProductSetPureReverseMapper = zConstructBitemporalOrderItemForProductSetPureReverseMapper();
+		}
+
+		return itemForProductSetPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemForProductSetPureReverseMapper()
+	{
+		InternalList itemForProductSetMapperMapperList = new InternalList(3);
+		itemForProductSetMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		itemForProductSetMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		itemForProductSetMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper itemForProductSetMapper = new MultiEqualityMapper(itemForProductSetMapperMapperList);
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemForProductSetReverseMapper(IntHashSet productIds)
+	{
+		InternalList itemForProductSetMapperMapperList = new InternalList(3);
+		itemForProductSetMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		itemForProductSetMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		itemForProductSetMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper itemForProductSetMapper = new MultiEqualityMapper(itemForProductSetMapperMapperList);
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemForProductSetMapper(IntHashSet productIds)
+	{
+		InternalList itemForProductSetMapperMapperList = new InternalList(3);
+		itemForProductSetMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(1));
+		itemForProductSetMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(12));
+		itemForProductSetMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(14));
+		Mapper itemForProductSetMapper = new MultiEqualityMapper(itemForProductSetMapperMapperList);
+		itemForProductSetMapper.setName("itemForProductSet_Reverse");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper orderStatusViaUnconfiguredJoinReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusViaUnconfiguredJoinReverseMapper()
+	{
+		if (orderStatusViaUnconfiguredJoinReverseMapper == null)
+		{
+			orderStatusViaUnconfiguredJoinReverseMapper = zConstructBitemporalOrderOrderStatusViaUnconfiguredJoinReverseMapper();
+		}
+
+		return orderStatusViaUnconfiguredJoinReverseMapper;
+	}
+
+	private static Mapper orderStatusViaUnconfiguredJoinMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusViaUnconfiguredJoinMapper()
+	{
+		if (orderStatusViaUnconfiguredJoinMapper == null)
+		{
+			orderStatusViaUnconfiguredJoinMapper = zConstructBitemporalOrderOrderStatusViaUnconfiguredJoinMapper();
+		}
+
+		return orderStatusViaUnconfiguredJoinMapper;
+	}
+
+	private static Mapper orderStatusViaUnconfiguredJoinPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusViaUnconfiguredJoinPureReverseMapper()
+	{
+		if (orderStatusViaUnconfiguredJoinPureReverseMapper == null)
+		{
+			orderStatusViaUnconfiguredJoinPureReverseMapper = zConstructBitemporalOrderOrderStatusViaUnconfiguredJoinPureReverseMapper();
+		}
+
+		return orderStatusViaUnconfiguredJoinPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusViaUnconfiguredJoinPureReverseMapper()
+	{
+		InternalList orderStatusViaUnconfiguredJoinc0MapperMapperList = new InternalList(3);
+		orderStatusViaUnconfiguredJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(18));
+		orderStatusViaUnconfiguredJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(20));
+		orderStatusViaUnconfiguredJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(22));
+		Mapper orderStatusViaUnconfiguredJoinc0Mapper = new MultiEqualityMapper(orderStatusViaUnconfiguredJoinc0MapperMapperList);
+		InternalList orderStatusViaUnconfiguredJoinc1MapperMapperList = new InternalList(3);
+		orderStatusViaUnconfiguredJoinc1MapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(0));
+		orderStatusViaUnconfiguredJoinc1MapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(2));
+		orderStatusViaUnconfiguredJoinc1MapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(4));
+		Mapper orderStatusViaUnconfiguredJoinc1Mapper = new MultiEqualityMapper(orderStatusViaUnconfiguredJoinc1MapperMapperList);
+		Mapper orderStatusViaUnconfiguredJoinMapper = new ChainedMapper(orderStatusViaUnconfiguredJoinc0Mapper,orderStatusViaUnconfiguredJoinc1Mapper);
+		orderStatusViaUnconfiguredJoinMapper.setName("orderStatusViaUnconfiguredJoin");
+		return orderStatusViaUnconfiguredJoinMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusViaUnconfiguredJoinReverseMapper()
+	{
+		InternalList orderStatusViaUnconfiguredJoinc0MapperMapperList = new InternalList(3);
+		orderStatusViaUnconfiguredJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(18));
+		orderStatusViaUnconfiguredJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(20));
+		orderStatusViaUnconfiguredJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(22));
+		Mapper orderStatusViaUnconfiguredJoinc0Mapper = new MultiEqualityMapper(orderStatusViaUnconfiguredJoinc0MapperMapperList);
+		InternalList orderStatusViaUnconfiguredJoinc1MapperMapperList = new InternalList(3);
+		orderStatusViaUnconfiguredJoinc1MapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(0));
+		orderStatusViaUnconfiguredJoinc1MapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(2));
+		orderStatusViaUnconfiguredJoinc1MapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(4));
+		Mapper orderStatusViaUnconfiguredJoinc1Mapper = new MultiEqualityMapper(orderStatusViaUnconfiguredJoinc1MapperMapperList);
+		Mapper orderStatusViaUnconfiguredJoinMapper = new ChainedMapper(orderStatusViaUnconfiguredJoinc0Mapper,orderStatusViaUnconfiguredJoinc1Mapper);
+		orderStatusViaUnconfiguredJoinMapper.setName("orderStatusViaUnconfiguredJoin");
+		return orderStatusViaUnconfiguredJoinMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusViaUnconfiguredJoinMapper()
+	{
+		InternalList orderStatusViaUnconfiguredJoinc0MapperMapperList = new InternalList(3);
+		orderStatusViaUnconfiguredJoinc0MapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(1));
+		orderStatusViaUnconfiguredJoinc0MapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(3));
+		orderStatusViaUnconfiguredJoinc0MapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(5));
+		Mapper orderStatusViaUnconfiguredJoinc0Mapper = new MultiEqualityMapper(orderStatusViaUnconfiguredJoinc0MapperMapperList);
+		InternalList orderStatusViaUnconfiguredJoinc1MapperMapperList = new InternalList(3);
+		orderStatusViaUnconfiguredJoinc1MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(19));
+		orderStatusViaUnconfiguredJoinc1MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(21));
+		orderStatusViaUnconfiguredJoinc1MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(23));
+		Mapper orderStatusViaUnconfiguredJoinc1Mapper = new MultiEqualityMapper(orderStatusViaUnconfiguredJoinc1MapperMapperList);
+		Mapper orderStatusViaUnconfiguredJoinMapper = new ChainedMapper(orderStatusViaUnconfiguredJoinc0Mapper,orderStatusViaUnconfiguredJoinc1Mapper);
+		orderStatusViaUnconfiguredJoinMapper.setName("orderStatusViaUnconfiguredJoin_Reverse");
+		return orderStatusViaUnconfiguredJoinMapper;
+	}
+
+	private static Mapper orderStatusViaUnconfiguredJoinMapperFragment = null;
+	public static Mapper zGetOrderStatusViaUnconfiguredJoinMapperFragment()
+	{
+		if (orderStatusViaUnconfiguredJoinMapperFragment == null)
+		{
+			orderStatusViaUnconfiguredJoinMapperFragment = zConstructOrderStatusViaUnconfiguredJoinMapperFragment();
+		}
+
+		return orderStatusViaUnconfiguredJoinMapperFragment;
+	}
+
+	private static Mapper zConstructOrderStatusViaUnconfiguredJoinMapperFragment()
+	{
+		InternalList orderStatusViaUnconfiguredJoinMapperMapperList = new InternalList(3);
+		orderStatusViaUnconfiguredJoinMapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(1));
+		orderStatusViaUnconfiguredJoinMapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(3));
+		orderStatusViaUnconfiguredJoinMapperMapperList.add(UnconfiguredBitemporalOrderToOrderStatusFinder.zGetConstantJoin(5));
+		return new MultiEqualityMapper(orderStatusViaUnconfiguredJoinMapperMapperList);
+	}
+
+	private static Mapper orderStatusWithUnconfiguredFilterReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusWithUnconfiguredFilterReverseMapper()
+	{
+		if (orderStatusWithUnconfiguredFilterReverseMapper == null)
+		{
+			orderStatusWithUnconfiguredFilterReverseMapper = zConstructBitemporalOrderOrderStatusWithUnconfiguredFilterReverseMapper();
+		}
+
+		return orderStatusWithUnconfiguredFilterReverseMapper;
+	}
+
+	private static Mapper orderStatusWithUnconfiguredFilterMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusWithUnconfiguredFilterMapper()
+	{
+		if (orderStatusWithUnconfiguredFilterMapper == null)
+		{
+			orderStatusWithUnconfiguredFilterMapper = zConstructBitemporalOrderOrderStatusWithUnconfiguredFilterMapper();
+		}
+
+		return orderStatusWithUnconfiguredFilterMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderOrderStatusWithUnconfiguredFilterDangleMapper()
+	{
+		InternalList dangleMapperInnerMapperMapperList = new InternalList(3);
+		dangleMapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(0));
+		dangleMapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(2));
+		dangleMapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(4));
+		Mapper dangleMapperInnerMapper = new MultiEqualityMapper(dangleMapperInnerMapperMapperList);
+		Mapper dangleMapper = new FilteredMapper(dangleMapperInnerMapper, null, UnconfiguredBitemporalOrderStatusFilterFinder.zGetConstantOperation(0));
+		return dangleMapper;
+	}
+
+	private static Mapper orderStatusWithUnconfiguredFilterPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusWithUnconfiguredFilterPureReverseMapper()
+	{
+		if (orderStatusWithUnconfiguredFilterPureReverseMapper == null)
+		{
+			orderStatusWithUnconfiguredFilterPureReverseMapper = zConstructBitemporalOrderOrderStatusWithUnconfiguredFilterPureReverseMapper();
+		}
+
+		return orderStatusWithUnconfiguredFilterPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusWithUnconfiguredFilterPureReverseMapper()
+	{
+		InternalList orderStatusWithUnconfiguredFilterpMapperMapperList = new InternalList(3);
+		orderStatusWithUnconfiguredFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(6));
+		orderStatusWithUnconfiguredFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(8));
+		orderStatusWithUnconfiguredFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatusWithUnconfiguredFilterpMapper = new MultiEqualityMapper(orderStatusWithUnconfiguredFilterpMapperMapperList);
+		InternalList orderStatusWithUnconfiguredFilterb0MapperMapperList = new InternalList(3);
+		orderStatusWithUnconfiguredFilterb0MapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(0));
+		orderStatusWithUnconfiguredFilterb0MapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(2));
+		orderStatusWithUnconfiguredFilterb0MapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(4));
+		Mapper orderStatusWithUnconfiguredFilterb0Mapper = new MultiEqualityMapper(orderStatusWithUnconfiguredFilterb0MapperMapperList);
+		Mapper orderStatusWithUnconfiguredFilterMapper = new FilteredMapper(orderStatusWithUnconfiguredFilterpMapper, null, new MappedOperation(orderStatusWithUnconfiguredFilterb0Mapper, new All(orderStatusWithUnconfiguredFilterb0Mapper.getAnyRightAttribute())));
+		orderStatusWithUnconfiguredFilterMapper.setName("orderStatusWithUnconfiguredFilter");
+		return orderStatusWithUnconfiguredFilterMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusWithUnconfiguredFilterReverseMapper()
+	{
+		InternalList orderStatusWithUnconfiguredFilterpMapperMapperList = new InternalList(3);
+		orderStatusWithUnconfiguredFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(6));
+		orderStatusWithUnconfiguredFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(8));
+		orderStatusWithUnconfiguredFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatusWithUnconfiguredFilterpMapper = new MultiEqualityMapper(orderStatusWithUnconfiguredFilterpMapperMapperList);
+		InternalList orderStatusWithUnconfiguredFilterb0MapperInnerMapperMapperList = new InternalList(3);
+		orderStatusWithUnconfiguredFilterb0MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(0));
+		orderStatusWithUnconfiguredFilterb0MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(2));
+		orderStatusWithUnconfiguredFilterb0MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(4));
+		Mapper orderStatusWithUnconfiguredFilterb0MapperInnerMapper = new MultiEqualityMapper(orderStatusWithUnconfiguredFilterb0MapperInnerMapperMapperList);
+		Mapper orderStatusWithUnconfiguredFilterb0Mapper = new FilteredMapper(orderStatusWithUnconfiguredFilterb0MapperInnerMapper, null, UnconfiguredBitemporalOrderStatusFilterFinder.zGetConstantOperation(0));
+		Mapper orderStatusWithUnconfiguredFilterMapper = new FilteredMapper(orderStatusWithUnconfiguredFilterpMapper, null, new MappedOperation(orderStatusWithUnconfiguredFilterb0Mapper, new All(orderStatusWithUnconfiguredFilterb0Mapper.getAnyRightAttribute())));
+		orderStatusWithUnconfiguredFilterMapper.setName("orderStatusWithUnconfiguredFilter");
+		return orderStatusWithUnconfiguredFilterMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusWithUnconfiguredFilterMapper()
+	{
+		InternalList orderStatusWithUnconfiguredFilterb0MapperMapperList = new InternalList(3);
+		orderStatusWithUnconfiguredFilterb0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(7));
+		orderStatusWithUnconfiguredFilterb0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(9));
+		orderStatusWithUnconfiguredFilterb0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(11));
+		Mapper orderStatusWithUnconfiguredFilterb0Mapper = new MultiEqualityMapper(orderStatusWithUnconfiguredFilterb0MapperMapperList);
+		InternalList orderStatusWithUnconfiguredFilterb1MapperInnerMapperMapperList = new InternalList(3);
+		orderStatusWithUnconfiguredFilterb1MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(0));
+		orderStatusWithUnconfiguredFilterb1MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(2));
+		orderStatusWithUnconfiguredFilterb1MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(4));
+		Mapper orderStatusWithUnconfiguredFilterb1MapperInnerMapper = new MultiEqualityMapper(orderStatusWithUnconfiguredFilterb1MapperInnerMapperMapperList);
+		Mapper orderStatusWithUnconfiguredFilterb1Mapper = new FilteredMapper(orderStatusWithUnconfiguredFilterb1MapperInnerMapper, null, UnconfiguredBitemporalOrderStatusFilterFinder.zGetConstantOperation(0));
+		Mapper orderStatusWithUnconfiguredFilterMapper = new FilteredMapper(orderStatusWithUnconfiguredFilterb0Mapper, new MappedOperation(orderStatusWithUnconfiguredFilterb1Mapper, new All(orderStatusWithUnconfiguredFilterb1Mapper.getAnyRightAttribute())), null);
+		orderStatusWithUnconfiguredFilterMapper.setName("orderStatusWithUnconfiguredFilter_Reverse");
+		return orderStatusWithUnconfiguredFilterMapper;
+	}
+
+	private static Mapper orderStatusViaJoinReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusViaJoinReverseMapper()
+	{
+		if (orderStatusViaJoinReverseMapper == null)
+		{
+			orderStatusViaJoinReverseMapper = zConstructBitemporalOrderOrderStatusViaJoinReverseMapper();
+		}
+
+		return orderStatusViaJoinReverseMapper;
+	}
+
+	private static Mapper orderStatusViaJoinMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusViaJoinMapper()
+	{
+		if (orderStatusViaJoinMapper == null)
+		{
+			orderStatusViaJoinMapper = zConstructBitemporalOrderOrderStatusViaJoinMapper();
+		}
+
+		return orderStatusViaJoinMapper;
+	}
+
+	private static Mapper orderStatusViaJoinPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusViaJoinPureReverseMapper()
+	{
+		if (orderStatusViaJoinPureReverseMapper == null)
+		{
+			orderStatusViaJoinPureReverseMapper = zConstructBitemporalOrderOrderStatusViaJoinPureReverseMapper();
+		}
+
+		return orderStatusViaJoinPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusViaJoinPureReverseMapper()
+	{
+		InternalList orderStatusViaJoinc0MapperMapperList = new InternalList(3);
+		orderStatusViaJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(24));
+		orderStatusViaJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(26));
+		orderStatusViaJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(28));
+		Mapper orderStatusViaJoinc0Mapper = new MultiEqualityMapper(orderStatusViaJoinc0MapperMapperList);
+		InternalList orderStatusViaJoinc1MapperMapperList = new InternalList(3);
+		orderStatusViaJoinc1MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(0));
+		orderStatusViaJoinc1MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(2));
+		orderStatusViaJoinc1MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(4));
+		Mapper orderStatusViaJoinc1Mapper = new MultiEqualityMapper(orderStatusViaJoinc1MapperMapperList);
+		Mapper orderStatusViaJoinMapper = new ChainedMapper(orderStatusViaJoinc0Mapper,orderStatusViaJoinc1Mapper);
+		orderStatusViaJoinMapper.setName("orderStatusViaJoin");
+		return orderStatusViaJoinMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusViaJoinReverseMapper()
+	{
+		InternalList orderStatusViaJoinc0MapperMapperList = new InternalList(3);
+		orderStatusViaJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(24));
+		orderStatusViaJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(26));
+		orderStatusViaJoinc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(28));
+		Mapper orderStatusViaJoinc0Mapper = new MultiEqualityMapper(orderStatusViaJoinc0MapperMapperList);
+		InternalList orderStatusViaJoinc1MapperMapperList = new InternalList(3);
+		orderStatusViaJoinc1MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(0));
+		orderStatusViaJoinc1MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(2));
+		orderStatusViaJoinc1MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(4));
+		Mapper orderStatusViaJoinc1Mapper = new MultiEqualityMapper(orderStatusViaJoinc1MapperMapperList);
+		Mapper orderStatusViaJoinMapper = new ChainedMapper(orderStatusViaJoinc0Mapper,orderStatusViaJoinc1Mapper);
+		orderStatusViaJoinMapper.setName("orderStatusViaJoin");
+		return orderStatusViaJoinMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusViaJoinMapper()
+	{
+		InternalList orderStatusViaJoinc0MapperMapperList = new InternalList(3);
+		orderStatusViaJoinc0MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(1));
+		orderStatusViaJoinc0MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(3));
+		orderStatusViaJoinc0MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(5));
+		Mapper orderStatusViaJoinc0Mapper = new MultiEqualityMapper(orderStatusViaJoinc0MapperMapperList);
+		InternalList orderStatusViaJoinc1MapperMapperList = new InternalList(3);
+		orderStatusViaJoinc1MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(25));
+		orderStatusViaJoinc1MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(27));
+		orderStatusViaJoinc1MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(29));
+		Mapper orderStatusViaJoinc1Mapper = new MultiEqualityMapper(orderStatusViaJoinc1MapperMapperList);
+		Mapper orderStatusViaJoinMapper = new ChainedMapper(orderStatusViaJoinc0Mapper,orderStatusViaJoinc1Mapper);
+		orderStatusViaJoinMapper.setName("orderStatusViaJoin_Reverse");
+		return orderStatusViaJoinMapper;
+	}
+
+	private static Mapper orderStatusViaJoinMapperFragment = null;
+	public static Mapper zGetOrderStatusViaJoinMapperFragment()
+	{
+		if (orderStatusViaJoinMapperFragment == null)
+		{
+			orderStatusViaJoinMapperFragment = zConstructOrderStatusViaJoinMapperFragment();
+		}
+
+		return orderStatusViaJoinMapperFragment;
+	}
+
+	private static Mapper zConstructOrderStatusViaJoinMapperFragment()
+	{
+		InternalList orderStatusViaJoinMapperMapperList = new InternalList(3);
+		orderStatusViaJoinMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(1));
+		orderStatusViaJoinMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(3));
+		orderStatusViaJoinMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(5));
+		return new MultiEqualityMapper(orderStatusViaJoinMapperMapperList);
+	}
+
+	private static Mapper orderStatusViaJoinWithFilterReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusViaJoinWithFilterReverseMapper()
+	{
+		if (orderStatusViaJoinWithFilterReverseMapper == null)
+		{
+			orderStatusViaJoinWithFilterReverseMapper = zConstructBitemporalOrderOrderStatusViaJoinWithFilterReverseMapper();
+		}
+
+		return orderStatusViaJoinWithFilterReverseMapper;
+	}
+
+	private static Mapper orderStatusViaJoinWithFilterMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusViaJoinWithFilterMapper()
+	{
+		if (orderStatusViaJoinWithFilterMapper == null)
+		{
+			orderStatusViaJoinWithFilterMapper = zConstructBitemporalOrderOrderStatusViaJoinWithFilterMapper();
+		}
+
+		return orderStatusViaJoinWithFilterMapper;
+	}
+
+	private static Mapper orderStatusViaJoinWithFilterPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusViaJoinWithFilterPureReverseMapper()
+	{
+		if (orderStatusViaJoinWithFilterPureReverseMapper == null)
+		{
+			orderStatusViaJoinWithFilterPureReverseMapper = zConstructBitemporalOrderOrderStatusViaJoinWithFilterPureReverseMapper();
+		}
+
+		return orderStatusViaJoinWithFilterPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusViaJoinWithFilterPureReverseMapper()
+	{
+		InternalList orderStatusViaJoinWithFilterc0MapperMapperList = new InternalList(3);
+		orderStatusViaJoinWithFilterc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(24));
+		orderStatusViaJoinWithFilterc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(26));
+		orderStatusViaJoinWithFilterc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(28));
+		Mapper orderStatusViaJoinWithFilterc0Mapper = new MultiEqualityMapper(orderStatusViaJoinWithFilterc0MapperMapperList);
+		InternalList orderStatusViaJoinWithFilterc1MapperMapperList = new InternalList(3);
+		orderStatusViaJoinWithFilterc1MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(0));
+		orderStatusViaJoinWithFilterc1MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(2));
+		orderStatusViaJoinWithFilterc1MapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(4));
+		Mapper orderStatusViaJoinWithFilterc1Mapper = new MultiEqualityMapper(orderStatusViaJoinWithFilterc1MapperMapperList);
+		Mapper orderStatusViaJoinWithFilterMapper = new ChainedMapper(orderStatusViaJoinWithFilterc0Mapper,orderStatusViaJoinWithFilterc1Mapper);
+		orderStatusViaJoinWithFilterMapper.setName("orderStatusViaJoinWithFilter");
+		return orderStatusViaJoinWithFilterMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusViaJoinWithFilterReverseMapper()
+	{
+		InternalList orderStatusViaJoinWithFilterc0MapperMapperList = new InternalList(3);
+		orderStatusViaJoinWithFilterc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(24));
+		orderStatusViaJoinWithFilterc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(26));
+		orderStatusViaJoinWithFilterc0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(28));
+		Mapper orderStatusViaJoinWithFilterc0Mapper = new MultiEqualityMapper(orderStatusViaJoinWithFilterc0MapperMapperList);
+		InternalList orderStatusViaJoinWithFilterc1MapperInnerMapperMapperList = new InternalList(3);
+		orderStatusViaJoinWithFilterc1MapperInnerMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(0));
+		orderStatusViaJoinWithFilterc1MapperInnerMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(2));
+		orderStatusViaJoinWithFilterc1MapperInnerMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(4));
+		Mapper orderStatusViaJoinWithFilterc1MapperInnerMapper = new MultiEqualityMapper(orderStatusViaJoinWithFilterc1MapperInnerMapperMapperList);
+		Mapper orderStatusViaJoinWithFilterc1Mapper = new FilteredMapper(orderStatusViaJoinWithFilterc1MapperInnerMapper, null, BitemporalOrderStatusFinder.zGetConstantOperation(0));
+		Mapper orderStatusViaJoinWithFilterMapper = new ChainedMapper(orderStatusViaJoinWithFilterc0Mapper,orderStatusViaJoinWithFilterc1Mapper);
+		orderStatusViaJoinWithFilterMapper.setName("orderStatusViaJoinWithFilter");
+		return orderStatusViaJoinWithFilterMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusViaJoinWithFilterMapper()
+	{
+		InternalList orderStatusViaJoinWithFilterc0MapperInnerMapperMapperList = new InternalList(3);
+		orderStatusViaJoinWithFilterc0MapperInnerMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(1));
+		orderStatusViaJoinWithFilterc0MapperInnerMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(3));
+		orderStatusViaJoinWithFilterc0MapperInnerMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(5));
+		Mapper orderStatusViaJoinWithFilterc0MapperInnerMapper = new MultiEqualityMapper(orderStatusViaJoinWithFilterc0MapperInnerMapperMapperList);
+		Mapper orderStatusViaJoinWithFilterc0Mapper = new FilteredMapper(orderStatusViaJoinWithFilterc0MapperInnerMapper, BitemporalOrderStatusFinder.zGetConstantOperation(0), null);
+		InternalList orderStatusViaJoinWithFilterc1MapperMapperList = new InternalList(3);
+		orderStatusViaJoinWithFilterc1MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(25));
+		orderStatusViaJoinWithFilterc1MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(27));
+		orderStatusViaJoinWithFilterc1MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(29));
+		Mapper orderStatusViaJoinWithFilterc1Mapper = new MultiEqualityMapper(orderStatusViaJoinWithFilterc1MapperMapperList);
+		Mapper orderStatusViaJoinWithFilterMapper = new ChainedMapper(orderStatusViaJoinWithFilterc0Mapper,orderStatusViaJoinWithFilterc1Mapper);
+		orderStatusViaJoinWithFilterMapper.setName("orderStatusViaJoinWithFilter_Reverse");
+		return orderStatusViaJoinWithFilterMapper;
+	}
+
+	private static Mapper orderStatusViaJoinWithFilterMapperFragment = null;
+	public static Mapper zGetOrderStatusViaJoinWithFilterMapperFragment()
+	{
+		if (orderStatusViaJoinWithFilterMapperFragment == null)
+		{
+			orderStatusViaJoinWithFilterMapperFragment = zConstructOrderStatusViaJoinWithFilterMapperFragment();
+		}
+
+		return orderStatusViaJoinWithFilterMapperFragment;
+	}
+
+	private static Mapper zConstructOrderStatusViaJoinWithFilterMapperFragment()
+	{
+		InternalList orderStatusViaJoinWithFilterMapperInnerMapperMapperList = new InternalList(3);
+		orderStatusViaJoinWithFilterMapperInnerMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(1));
+		orderStatusViaJoinWithFilterMapperInnerMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(3));
+		orderStatusViaJoinWithFilterMapperInnerMapperMapperList.add(BitemporalOrderToOrderStatusFinder.zGetConstantJoin(5));
+		Mapper orderStatusViaJoinWithFilterMapperInnerMapper = new MultiEqualityMapper(orderStatusViaJoinWithFilterMapperInnerMapperMapperList);
+		return new FilteredMapper(orderStatusViaJoinWithFilterMapperInnerMapper, BitemporalOrderStatusFinder.zGetConstantOperation(0), null);
+	}
+
+	private static Mapper orderStatusWithFilterReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusWithFilterReverseMapper()
+	{
+		if (orderStatusWithFilterReverseMapper == null)
+		{
+			orderStatusWithFilterReverseMapper = zConstructBitemporalOrderOrderStatusWithFilterReverseMapper();
+		}
+
+		return orderStatusWithFilterReverseMapper;
+	}
+
+	private static Mapper orderStatusWithFilterMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusWithFilterMapper()
+	{
+		if (orderStatusWithFilterMapper == null)
+		{
+			orderStatusWithFilterMapper = zConstructBitemporalOrderOrderStatusWithFilterMapper();
+		}
+
+		return orderStatusWithFilterMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderOrderStatusWithFilterDangleMapper()
+	{
+		InternalList dangleMapperInnerMapperMapperList = new InternalList(3);
+		dangleMapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(6));
+		dangleMapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(8));
+		dangleMapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(10));
+		Mapper dangleMapperInnerMapper = new MultiEqualityMapper(dangleMapperInnerMapperMapperList);
+		Mapper dangleMapper = new FilteredMapper(dangleMapperInnerMapper, null, BitemporalOrderStatusFilterFinder.zGetConstantOperation(0));
+		return dangleMapper;
+	}
+
+	private static Mapper orderStatusWithFilterPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusWithFilterPureReverseMapper()
+	{
+		if (orderStatusWithFilterPureReverseMapper == null)
+		{
+			orderStatusWithFilterPureReverseMapper = zConstructBitemporalOrderOrderStatusWithFilterPureReverseMapper();
+		}
+
+		return orderStatusWithFilterPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusWithFilterPureReverseMapper()
+	{
+		InternalList orderStatusWithFilterpMapperMapperList = new InternalList(3);
+		orderStatusWithFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(6));
+		orderStatusWithFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(8));
+		orderStatusWithFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatusWithFilterpMapper = new MultiEqualityMapper(orderStatusWithFilterpMapperMapperList);
+		InternalList orderStatusWithFilterb0MapperMapperList = new InternalList(3);
+		orderStatusWithFilterb0MapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(6));
+		orderStatusWithFilterb0MapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(8));
+		orderStatusWithFilterb0MapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(10));
+		Mapper orderStatusWithFilterb0Mapper = new MultiEqualityMapper(orderStatusWithFilterb0MapperMapperList);
+		Mapper orderStatusWithFilterMapper = new FilteredMapper(orderStatusWithFilterpMapper, null, new MappedOperation(orderStatusWithFilterb0Mapper, new All(orderStatusWithFilterb0Mapper.getAnyRightAttribute())));
+		orderStatusWithFilterMapper.setName("orderStatusWithFilter");
+		return orderStatusWithFilterMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusWithFilterReverseMapper()
+	{
+		InternalList orderStatusWithFilterpMapperMapperList = new InternalList(3);
+		orderStatusWithFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(6));
+		orderStatusWithFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(8));
+		orderStatusWithFilterpMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatusWithFilterpMapper = new MultiEqualityMapper(orderStatusWithFilterpMapperMapperList);
+		InternalList orderStatusWithFilterb0MapperInnerMapperMapperList = new InternalList(3);
+		orderStatusWithFilterb0MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(6));
+		orderStatusWithFilterb0MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(8));
+		orderStatusWithFilterb0MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(10));
+		Mapper orderStatusWithFilterb0MapperInnerMapper = new MultiEqualityMapper(orderStatusWithFilterb0MapperInnerMapperMapperList);
+		Mapper orderStatusWithFilterb0Mapper = new FilteredMapper(orderStatusWithFilterb0MapperInnerMapper, null, BitemporalOrderStatusFilterFinder.zGetConstantOperation(0));
+		Mapper orderStatusWithFilterMapper = new FilteredMapper(orderStatusWithFilterpMapper, null, new MappedOperation(orderStatusWithFilterb0Mapper, new All(orderStatusWithFilterb0Mapper.getAnyRightAttribute())));
+		orderStatusWithFilterMapper.setName("orderStatusWithFilter");
+		return orderStatusWithFilterMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusWithFilterMapper()
+	{
+		InternalList orderStatusWithFilterb0MapperMapperList = new InternalList(3);
+		orderStatusWithFilterb0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(7));
+		orderStatusWithFilterb0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(9));
+		orderStatusWithFilterb0MapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(11));
+		Mapper orderStatusWithFilterb0Mapper = new MultiEqualityMapper(orderStatusWithFilterb0MapperMapperList);
+		InternalList orderStatusWithFilterb1MapperInnerMapperMapperList = new InternalList(3);
+		orderStatusWithFilterb1MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(6));
+		orderStatusWithFilterb1MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(8));
+		orderStatusWithFilterb1MapperInnerMapperMapperList.add(BitemporalOrderStatusFinder.zGetConstantJoin(10));
+		Mapper orderStatusWithFilterb1MapperInnerMapper = new MultiEqualityMapper(orderStatusWithFilterb1MapperInnerMapperMapperList);
+		Mapper orderStatusWithFilterb1Mapper = new FilteredMapper(orderStatusWithFilterb1MapperInnerMapper, null, BitemporalOrderStatusFilterFinder.zGetConstantOperation(0));
+		Mapper orderStatusWithFilterMapper = new FilteredMapper(orderStatusWithFilterb0Mapper, new MappedOperation(orderStatusWithFilterb1Mapper, new All(orderStatusWithFilterb1Mapper.getAnyRightAttribute())), null);
+		orderStatusWithFilterMapper.setName("orderStatusWithFilter_Reverse");
+		return orderStatusWithFilterMapper;
+	}
+
+	private static Mapper orderStatusWithFixedOrderIdReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusWithFixedOrderIdReverseMapper()
+	{
+		if (orderStatusWithFixedOrderIdReverseMapper == null)
+		{
+			orderStatusWithFixedOrderIdReverseMapper = zConstructBitemporalOrderOrderStatusWithFixedOrderIdReverseMapper();
+		}
+
+		return orderStatusWithFixedOrderIdReverseMapper;
+	}
+
+	private static Mapper orderStatusWithFixedOrderIdMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusWithFixedOrderIdMapper()
+	{
+		if (orderStatusWithFixedOrderIdMapper == null)
+		{
+			orderStatusWithFixedOrderIdMapper = zConstructBitemporalOrderOrderStatusWithFixedOrderIdMapper();
+		}
+
+		return orderStatusWithFixedOrderIdMapper;
+	}
+
+	private static Mapper orderStatusWithFixedOrderIdPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderOrderStatusWithFixedOrderIdPureReverseMapper()
+	{
+		if (orderStatusWithFixedOrderIdPureReverseMapper == null)
+		{
+			orderStatusWithFixedOrderIdPureReverseMapper = zConstructBitemporalOrderOrderStatusWithFixedOrderIdPureReverseMapper();
+		}
+
+		return orderStatusWithFixedOrderIdPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusWithFixedOrderIdPureReverseMapper()
+	{
+		InternalList orderStatusWithFixedOrderIdMapperMapperList = new InternalList(2);
+		orderStatusWithFixedOrderIdMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(8));
+		orderStatusWithFixedOrderIdMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatusWithFixedOrderIdMapper = new MultiEqualityMapper(orderStatusWithFixedOrderIdMapperMapperList);
+		orderStatusWithFixedOrderIdMapper.setName("orderStatusWithFixedOrderId");
+		return orderStatusWithFixedOrderIdMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusWithFixedOrderIdReverseMapper()
+	{
+		InternalList orderStatusWithFixedOrderIdMapperInnerMapperMapperList = new InternalList(2);
+		orderStatusWithFixedOrderIdMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(8));
+		orderStatusWithFixedOrderIdMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(10));
+		Mapper orderStatusWithFixedOrderIdMapperInnerMapper = new MultiEqualityMapper(orderStatusWithFixedOrderIdMapperInnerMapperMapperList);
+		Mapper orderStatusWithFixedOrderIdMapper = new FilteredMapper(orderStatusWithFixedOrderIdMapperInnerMapper, null, BitemporalOrderStatusFinder.zGetConstantOperation(1));
+		orderStatusWithFixedOrderIdMapper.setName("orderStatusWithFixedOrderId");
+		return orderStatusWithFixedOrderIdMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderOrderStatusWithFixedOrderIdMapper()
+	{
+		InternalList orderStatusWithFixedOrderIdMapperInnerMapperMapperList = new InternalList(2);
+		orderStatusWithFixedOrderIdMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(9));
+		orderStatusWithFixedOrderIdMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(11));
+		Mapper orderStatusWithFixedOrderIdMapperInnerMapper = new MultiEqualityMapper(orderStatusWithFixedOrderIdMapperInnerMapperMapperList);
+		Mapper orderStatusWithFixedOrderIdMapper = new FilteredMapper(orderStatusWithFixedOrderIdMapperInnerMapper, BitemporalOrderStatusFinder.zGetConstantOperation(1), null);
+		orderStatusWithFixedOrderIdMapper.setName("orderStatusWithFixedOrderId_Reverse");
+		return orderStatusWithFixedOrderIdMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderExpensiveItemsReverseMapper(double price)
+	{
+		return zConstructBitemporalOrderExpensiveItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetBitemporalOrderExpensiveItemsMapper(double price)
+	{
+		return zConstructBitemporalOrderExpensiveItemsMapper(price);
+	}
+
+	private static Mapper expensiveItemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderExpensiveItemsPureReverseMapper()
+	{
+		if (expensiveItemsPureReverseMapper == null)
+		{
+			expensiveItemsPureReverseMapper = zConstructBitemporalOrderExpensiveItemsPureReverseMapper();
+		}
+
+		return expensiveItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderExpensiveItemsPureReverseMapper()
+	{
+		InternalList expensiveItemsMapperMapperList = new InternalList(3);
+		expensiveItemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		expensiveItemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		expensiveItemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper expensiveItemsMapper = new MultiEqualityMapper(expensiveItemsMapperMapperList);
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderExpensiveItemsReverseMapper(double price)
+	{
+		InternalList expensiveItemsMapperInnerMapperMapperList = new InternalList(3);
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper expensiveItemsMapperInnerMapper = new MultiEqualityMapper(expensiveItemsMapperInnerMapperMapperList);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, null, BitemporalOrderItemFinder.originalPrice().greaterThanEquals(price));
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderExpensiveItemsMapper(double price)
+	{
+		InternalList expensiveItemsMapperInnerMapperMapperList = new InternalList(3);
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(1));
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(12));
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(14));
+		Mapper expensiveItemsMapperInnerMapper = new MultiEqualityMapper(expensiveItemsMapperInnerMapperMapperList);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, BitemporalOrderItemFinder.originalPrice().greaterThanEquals(price), null);
+		expensiveItemsMapper.setName("expensiveItems_Reverse");
+		return expensiveItemsMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderCheapItemsReverseMapper(double price)
+	{
+		return zConstructBitemporalOrderCheapItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetBitemporalOrderCheapItemsMapper(double price)
+	{
+		return zConstructBitemporalOrderCheapItemsMapper(price);
+	}
+
+	private static Mapper cheapItemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderCheapItemsPureReverseMapper()
+	{
+		if (cheapItemsPureReverseMapper == null)
+		{
+			cheapItemsPureReverseMapper = zConstructBitemporalOrderCheapItemsPureReverseMapper();
+		}
+
+		return cheapItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderCheapItemsPureReverseMapper()
+	{
+		InternalList cheapItemsMapperMapperList = new InternalList(3);
+		cheapItemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		cheapItemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		cheapItemsMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper cheapItemsMapper = new MultiEqualityMapper(cheapItemsMapperMapperList);
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderCheapItemsReverseMapper(double price)
+	{
+		InternalList cheapItemsMapperInnerMapperMapperList = new InternalList(3);
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(0));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper cheapItemsMapperInnerMapper = new MultiEqualityMapper(cheapItemsMapperInnerMapperMapperList);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, null, BitemporalOrderItemFinder.originalPrice().lessThan(price));
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderCheapItemsMapper(double price)
+	{
+		InternalList cheapItemsMapperInnerMapperMapperList = new InternalList(3);
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(1));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(12));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(14));
+		Mapper cheapItemsMapperInnerMapper = new MultiEqualityMapper(cheapItemsMapperInnerMapperMapperList);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, BitemporalOrderItemFinder.originalPrice().lessThan(price), null);
+		cheapItemsMapper.setName("cheapItems_Reverse");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper saleReverseMapper = null;
+	public static Mapper zGetBitemporalOrderSaleReverseMapper()
+	{
+		if (saleReverseMapper == null)
+		{
+			saleReverseMapper = zConstructBitemporalOrderSaleReverseMapper();
+		}
+
+		return saleReverseMapper;
+	}
+
+	private static Mapper saleMapper = null;
+	public static Mapper zGetBitemporalOrderSaleMapper()
+	{
+		if (saleMapper == null)
+		{
+			saleMapper = zConstructBitemporalOrderSaleMapper();
+		}
+
+		return saleMapper;
+	}
+
+	private static Mapper salePureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderSalePureReverseMapper()
+	{
+		if (salePureReverseMapper == null)
+		{
+			salePureReverseMapper = zConstructBitemporalOrderSalePureReverseMapper();
+		}
+
+		return salePureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderSalePureReverseMapper()
+	{
+		Mapper saleMapper = BitemporalOrderFinder.zGetConstantJoin(30);
+		saleMapper.setName("sale");
+		return saleMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderSaleReverseMapper()
+	{
+		Mapper saleMapper = BitemporalOrderFinder.zGetConstantJoin(30);
+		saleMapper.setName("sale");
+		return saleMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderSaleMapper()
+	{
+		Mapper saleMapper = BitemporalOrderFinder.zGetConstantJoin(31);
+		saleMapper.setName("sale_Reverse");
+		return saleMapper;
+	}
+
+	private static Mapper saleWithUserIdReverseMapper = null;
+	public static Mapper zGetBitemporalOrderSaleWithUserIdReverseMapper()
+	{
+		if (saleWithUserIdReverseMapper == null)
+		{
+			saleWithUserIdReverseMapper = zConstructBitemporalOrderSaleWithUserIdReverseMapper();
+		}
+
+		return saleWithUserIdReverseMapper;
+	}
+
+	private static Mapper saleWithUserIdMapper = null;
+	public static Mapper zGetBitemporalOrderSaleWithUserIdMapper()
+	{
+		if (saleWithUserIdMapper == null)
+		{
+			saleWithUserIdMapper = zConstructBitemporalOrderSaleWithUserIdMapper();
+		}
+
+		return saleWithUserIdMapper;
+	}
+
+	private static Mapper saleWithUserIdPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderSaleWithUserIdPureReverseMapper()
+	{
+		if (saleWithUserIdPureReverseMapper == null)
+		{
+			saleWithUserIdPureReverseMapper = zConstructBitemporalOrderSaleWithUserIdPureReverseMapper();
+		}
+
+		return saleWithUserIdPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderSaleWithUserIdPureReverseMapper()
+	{
+		Mapper saleWithUserIdMapper = BitemporalOrderFinder.zGetConstantJoin(32);
+		saleWithUserIdMapper.setName("saleWithUserId");
+		return saleWithUserIdMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderSaleWithUserIdReverseMapper()
+	{
+		Mapper saleWithUserIdMapper = BitemporalOrderFinder.zGetConstantJoin(32);
+		saleWithUserIdMapper.setName("saleWithUserId");
+		return saleWithUserIdMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderSaleWithUserIdMapper()
+	{
+		Mapper saleWithUserIdMapper = BitemporalOrderFinder.zGetConstantJoin(33);
+		saleWithUserIdMapper.setName("saleWithUserId_Reverse");
+		return saleWithUserIdMapper;
+	}
+
+	/** maps to BITEMPORAL_ORDER.ORDER_ID **/
+	public static IntegerAttribute<BitemporalOrder> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BITEMPORAL_ORDER.ORDER_DATE **/
+	public static TimestampAttribute<BitemporalOrder> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to BITEMPORAL_ORDER.USER_ID **/
+	public static IntegerAttribute<BitemporalOrder> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to BITEMPORAL_ORDER.DESCRIPTION **/
+	public static StringAttribute<BitemporalOrder> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to BITEMPORAL_ORDER."STATE" **/
+	public static StringAttribute<BitemporalOrder> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to BITEMPORAL_ORDER.TRACKING_ID **/
+	public static StringAttribute<BitemporalOrder> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	/** maps to BITEMPORAL_ORDER.FROM_Z **/
+	public static TimestampAttribute<BitemporalOrder> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER.THRU_Z **/
+	public static TimestampAttribute<BitemporalOrder> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to BITEMPORAL_ORDER.IN_Z **/
+	public static TimestampAttribute<BitemporalOrder> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER.OUT_Z **/
+	public static TimestampAttribute<BitemporalOrder> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalOrder> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalOrder> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<BitemporalOrder, BitemporalOrderItemList, BitemporalOrder> items()
+	{
+		return finder.items();
+	}
+
+	public static class BitemporalOrderItemsFinderSubclass<ParentOwnerType> extends BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemList, BitemporalOrder>
+	{
+		public BitemporalOrderItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderItemFinder.orderId(),
+				BitemporalOrderItemFinder.businessDate(),
+				BitemporalOrderItemFinder.processingDate()).withExtractors(
+				BitemporalOrderFinder.orderId(),
+				BitemporalOrderFinder.businessDate(),
+				BitemporalOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BitemporalOrder) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected BitemporalOrderItemList plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected BitemporalOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getItems();
+		}
+	}
+
+	public static BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<BitemporalOrder, BitemporalOrderStatus, BitemporalOrder> orderStatus()
+	{
+		return finder.orderStatus();
+	}
+
+	public static class BitemporalOrderOrderStatusFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder>
+	{
+		public BitemporalOrderOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderStatusFinder.orderId(),
+				BitemporalOrderStatusFinder.businessDate(),
+				BitemporalOrderStatusFinder.processingDate()).withExtractors(
+				BitemporalOrderFinder.orderId(),
+				BitemporalOrderFinder.businessDate(),
+				BitemporalOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BitemporalOrder) _obj).isOrderStatusModifiedSinceDetachment();
+		}
+
+		protected BitemporalOrderStatus plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getOrderStatus();
+		}
+
+		protected BitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getOrderStatus();
+		}
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFinder.UnconfiguredBitemporalOrderStatusSingleFinderForRelatedClasses<BitemporalOrder, UnconfiguredBitemporalOrderStatus, BitemporalOrder> unconfiguredOrderStatus()
+	{
+		return finder.unconfiguredOrderStatus();
+	}
+
+	public static class BitemporalOrderUnconfiguredOrderStatusFinderSubclass<ParentOwnerType> extends UnconfiguredBitemporalOrderStatusFinder.UnconfiguredBitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, UnconfiguredBitemporalOrderStatus, BitemporalOrder>
+	{
+		public BitemporalOrderUnconfiguredOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "unconfiguredOrderStatus";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				UnconfiguredBitemporalOrderStatusFinder.orderId(),
+				UnconfiguredBitemporalOrderStatusFinder.businessDate(),
+				UnconfiguredBitemporalOrderStatusFinder.processingDate()).withExtractors(
+				BitemporalOrderFinder.orderId(),
+				BitemporalOrderFinder.businessDate(),
+				BitemporalOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderUnconfiguredOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected UnconfiguredBitemporalOrderStatus plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getUnconfiguredOrderStatus();
+		}
+
+		protected UnconfiguredBitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getUnconfiguredOrderStatus();
+		}
+	}
+
+	public static BitemporalOrderItemFinder.BitemporalOrderItemSingleFinderForRelatedClasses<BitemporalOrder, BitemporalOrderItem, BitemporalOrder> itemForProduct(int productId)
+	{
+		return finder.itemForProduct(productId);
+	}
+
+	public static class BitemporalOrderItemForProductFinderSubclass<ParentOwnerType> extends BitemporalOrderItemFinder.BitemporalOrderItemSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItem, BitemporalOrder>
+	{
+		private int productId;
+		public BitemporalOrderItemForProductFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int productId)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productId = productId;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "itemForProduct";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemForProductFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productId
+			);
+		}
+
+		protected BitemporalOrderItem plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getItemForProduct(productId);
+		}
+
+		protected BitemporalOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getItemForProducts(productId);
+		}
+	}
+
+	public static BitemporalOrderItemFinder.BitemporalOrderItemSingleFinderForRelatedClasses<BitemporalOrder, BitemporalOrderItem, BitemporalOrder> itemForProductSet(IntHashSet productIds)
+	{
+		return finder.itemForProductSet(productIds);
+	}
+
+	public static class BitemporalOrderItemForProductSetFinderSubclass<ParentOwnerType> extends BitemporalOrderItemFinder.BitemporalOrderItemSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItem, BitemporalOrder>
+	{
+		private IntHashSet productIds;
+		public BitemporalOrderItemForProductSetFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , IntHashSet productIds)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productIds = productIds;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "itemForProductSet";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemForProductSetFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productIds
+			);
+		}
+
+		protected BitemporalOrderItem plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getItemForProductSet(productIds);
+		}
+
+		protected BitemporalOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getItemForProductSets(productIds);
+		}
+	}
+
+	public static BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<BitemporalOrder, BitemporalOrderStatus, BitemporalOrder> orderStatusViaUnconfiguredJoin()
+	{
+		return finder.orderStatusViaUnconfiguredJoin();
+	}
+
+	public static class BitemporalOrderOrderStatusViaUnconfiguredJoinFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder>
+	{
+		public BitemporalOrderOrderStatusViaUnconfiguredJoinFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "orderStatusViaUnconfiguredJoin";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderOrderStatusViaUnconfiguredJoinFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderStatus plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getOrderStatusViaUnconfiguredJoin();
+		}
+
+		protected BitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getOrderStatusViaUnconfiguredJoins();
+		}
+	}
+
+	public static BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<BitemporalOrder, BitemporalOrderStatus, BitemporalOrder> orderStatusWithUnconfiguredFilter()
+	{
+		return finder.orderStatusWithUnconfiguredFilter();
+	}
+
+	public static class BitemporalOrderOrderStatusWithUnconfiguredFilterFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder>
+	{
+		public BitemporalOrderOrderStatusWithUnconfiguredFilterFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "orderStatusWithUnconfiguredFilter";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderOrderStatusWithUnconfiguredFilterFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderStatus plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getOrderStatusWithUnconfiguredFilter();
+		}
+
+		protected BitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getOrderStatusWithUnconfiguredFilters();
+		}
+	}
+
+	public static BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<BitemporalOrder, BitemporalOrderStatus, BitemporalOrder> orderStatusViaJoin()
+	{
+		return finder.orderStatusViaJoin();
+	}
+
+	public static class BitemporalOrderOrderStatusViaJoinFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder>
+	{
+		public BitemporalOrderOrderStatusViaJoinFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "orderStatusViaJoin";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderOrderStatusViaJoinFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderStatus plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getOrderStatusViaJoin();
+		}
+
+		protected BitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getOrderStatusViaJoins();
+		}
+	}
+
+	public static BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<BitemporalOrder, BitemporalOrderStatus, BitemporalOrder> orderStatusViaJoinWithFilter()
+	{
+		return finder.orderStatusViaJoinWithFilter();
+	}
+
+	public static class BitemporalOrderOrderStatusViaJoinWithFilterFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder>
+	{
+		public BitemporalOrderOrderStatusViaJoinWithFilterFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "orderStatusViaJoinWithFilter";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderOrderStatusViaJoinWithFilterFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderStatus plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getOrderStatusViaJoinWithFilter();
+		}
+
+		protected BitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getOrderStatusViaJoinWithFilters();
+		}
+	}
+
+	public static BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<BitemporalOrder, BitemporalOrderStatus, BitemporalOrder> orderStatusWithFilter()
+	{
+		return finder.orderStatusWithFilter();
+	}
+
+	public static class BitemporalOrderOrderStatusWithFilterFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder>
+	{
+		public BitemporalOrderOrderStatusWithFilterFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "orderStatusWithFilter";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderOrderStatusWithFilterFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderStatus plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getOrderStatusWithFilter();
+		}
+
+		protected BitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getOrderStatusWithFilters();
+		}
+	}
+
+	public static BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<BitemporalOrder, BitemporalOrderStatus, BitemporalOrder> orderStatusWithFixedOrderId()
+	{
+		return finder.orderStatusWithFixedOrderId();
+	}
+
+	public static class BitemporalOrderOrderStatusWithFixedOrderIdFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrder>
+	{
+		public BitemporalOrderOrderStatusWithFixedOrderIdFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatusWithFixedOrderId";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderStatusFinder.orderId(),
+				BitemporalOrderStatusFinder.businessDate(),
+				BitemporalOrderStatusFinder.processingDate()).withExtractors(
+				((OperationWithParameterExtractor)BitemporalOrderStatusFinder.zGetConstantOperation(1)).getParameterExtractor(),
+				BitemporalOrderFinder.businessDate(),
+				BitemporalOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderOrderStatusWithFixedOrderIdFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderStatus plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getOrderStatusWithFixedOrderId();
+		}
+
+		protected BitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getOrderStatusWithFixedOrderIds();
+		}
+	}
+
+	public static BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<BitemporalOrder, BitemporalOrderItemList, BitemporalOrder> expensiveItems(double price)
+	{
+		return finder.expensiveItems(price);
+	}
+
+	public static class BitemporalOrderExpensiveItemsFinderSubclass<ParentOwnerType> extends BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemList, BitemporalOrder>
+	{
+		private double price;
+		public BitemporalOrderExpensiveItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "expensiveItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderExpensiveItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected BitemporalOrderItemList plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getExpensiveItems(price);
+		}
+
+		protected BitemporalOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getExpensiveItems(price);
+		}
+	}
+
+	public static BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<BitemporalOrder, List, BitemporalOrder> cheapItems(double price)
+	{
+		return finder.cheapItems(price);
+	}
+
+	public static class BitemporalOrderCheapItemsFinderSubclass<ParentOwnerType> extends BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, BitemporalOrder>
+	{
+		private double price;
+		public BitemporalOrderCheapItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderCheapItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected List plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getCheapItems(price);
+		}
+
+		protected BitemporalOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getCheapItems(price);
+		}
+	}
+
+	public static SaleFinder.SaleSingleFinderForRelatedClasses<BitemporalOrder, Sale, BitemporalOrder> sale()
+	{
+		return finder.sale();
+	}
+
+	public static class BitemporalOrderSaleFinderSubclass<ParentOwnerType> extends SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, BitemporalOrder>
+	{
+		public BitemporalOrderSaleFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "sale";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderSaleFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Sale plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getSale();
+		}
+
+		protected SaleList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getSales();
+		}
+	}
+
+	public static SaleFinder.SaleSingleFinderForRelatedClasses<BitemporalOrder, Sale, BitemporalOrder> saleWithUserId()
+	{
+		return finder.saleWithUserId();
+	}
+
+	public static class BitemporalOrderSaleWithUserIdFinderSubclass<ParentOwnerType> extends SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, BitemporalOrder>
+	{
+		public BitemporalOrderSaleWithUserIdFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "saleWithUserId";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderSaleWithUserIdFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Sale plainValueOf(BitemporalOrder _obj)
+		{
+			return _obj.getSaleWithUserId();
+		}
+
+		protected SaleList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderList)_obj).getSaleWithUserIds();
+		}
+	}
+
+	public static Operation eq(BitemporalOrder other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static BitemporalOrderSingleFinder<BitemporalOrder, Object, BitemporalOrder> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("byUserId", new Attribute[] 
+		{
+			userId()
+		}
+
+		);
+		cache.addIndex("byState", new Attribute[] 
+		{
+			state()
+		}
+
+		);
+		INDEX_byTrackingId = cache.addUniqueIndex("byTrackingId", new Attribute[] 
+		{
+			trackingId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyTrackingIdRef() 
+	{
+		return INDEX_byTrackingId; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrder");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,2029 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalOrderItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+, OrderItemInterface
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalOrderItemFinder.businessDate()
+	,
+		BitemporalOrderItemFinder.processingDate()
+	, BitemporalOrderItemFinder.zGetDoubleAttributes(),BitemporalOrderItemFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalOrderItem.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forproductInfo = new ProductInfoRhs();
+	private static final RelationshipHashStrategy forproductSpecs = new ProductSpecsRhs();
+	private static final RelationshipHashStrategy fororderItemStatus = new OrderItemStatusRhs();
+	private static final RelationshipHashStrategy fororderWithSameIdAsProduct = new OrderWithSameIdAsProductRhs();
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final RelationshipHashStrategy forbitemporalOrderWithInterface = new BitemporalOrderWithInterfaceRhs();
+	private static final RelationshipHashStrategy forreadOnlyDatedOrderWithInterface = new ReadOnlyDatedOrderWithInterfaceRhs();
+	private static final class ProductInfoRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ProductSpecsRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			ProductSpecificationData _castedTargetData = (ProductSpecificationData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderItemStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderItemStatusFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderItemStatusFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderItem _castedSrcObject = (BitemporalOrderItem) _srcObject;
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			BitemporalOrderItemStatusData _castedTargetData = (BitemporalOrderItemStatusData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getItemId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderWithSameIdAsProductRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderItem _castedSrcObject = (BitemporalOrderItem) _srcObject;
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			BitemporalOrderData _castedTargetData = (BitemporalOrderData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderItem _castedSrcObject = (BitemporalOrderItem) _srcObject;
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			BitemporalOrderData _castedTargetData = (BitemporalOrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class BitemporalOrderWithInterfaceRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderWiFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderItem _castedSrcObject = (BitemporalOrderItem) _srcObject;
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			BitemporalOrderWiData _castedTargetData = (BitemporalOrderWiData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ReadOnlyDatedOrderWithInterfaceRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = ReadOnlyBitemporalOrderWiFinder.businessDate();
+		private AsOfAttribute processingDate = ReadOnlyBitemporalOrderWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderItem _castedSrcObject = (BitemporalOrderItem) _srcObject;
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			ReadOnlyBitemporalOrderWiData _castedTargetData = (ReadOnlyBitemporalOrderWiData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderItemData _castedSrcData = (BitemporalOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isOrderItemStatusModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderItemStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderItemStatus _existing = this.getOriginalPersistentObject().getOrderItemStatus();
+			return _existing != null;
+		}
+
+		BitemporalOrderItemStatus orderItemStatus =
+		(BitemporalOrderItemStatus) _data.getOrderItemStatus();
+		if( orderItemStatus != null)
+		{
+			return orderItemStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public BitemporalOrderItemAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalOrderItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalOrderItemFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalOrderItemAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalOrderItemData zSynchronizedGetData()
+	{
+		return (BitemporalOrderItemData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalOrderItemFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalOrderItemFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		BitemporalOrderItemStatus orderItemStatus =
+		(BitemporalOrderItemStatus ) _data.getOrderItemStatus();
+		_behavior.insert(this);
+		if (orderItemStatus != null)
+		{
+			orderItemStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		BitemporalOrderItemFinder.BitemporalOrderItemRelatedFinder parentFinder = (BitemporalOrderItemFinder.BitemporalOrderItemRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _newData = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getOrderItemStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderItemStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			BitemporalOrderItemStatus orderItemStatus =
+			(BitemporalOrderItemStatus) _newData.getOrderItemStatus();
+			RelatedFinder dependentFinder = parentFinder.orderItemStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderItemStatus != null, navigationStats);
+			if (orderItemStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderItemStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public BitemporalOrderItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		BitemporalOrderItemStatus orderItemStatus =
+		(BitemporalOrderItemStatus ) _data.getOrderItemStatus();
+		BitemporalOrderItem original = (BitemporalOrderItem) _behavior.copyThenInsert(this);
+		if (orderItemStatus != null)
+		{
+			orderItemStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		{
+			BitemporalOrderItemStatus related = this.getOrderItemStatus();
+			if (related != null)
+			related.cascadeInsertUntil(exclusiveUntil);
+		}
+
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderItem copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalOrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderItem copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderItem) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalOrderItemFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalOrderItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderItemAbstract result = (BitemporalOrderItemAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalOrderItem ) result;
+	}
+
+	public BitemporalOrderItem zFindOriginal()
+	{
+		BitemporalOrderItemData data = (BitemporalOrderItemData) this.currentData;
+		Operation op;
+		op = BitemporalOrderItemFinder.id().eq(data.getId());
+		op = op.and(BitemporalOrderItemFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalOrderItemFinder.processingDate().eq(this.getProcessingDate()));
+		return BitemporalOrderItemFinder.findOne(op);
+	}
+
+	public BitemporalOrderItem getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderItemAbstract result = (BitemporalOrderItemAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalOrderItem ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isOrderItemStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalOrderItem copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderItem) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalOrderItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalOrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalOrderItemData data = (BitemporalOrderItemData) this.currentData;
+			Operation op = BitemporalOrderItemFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalOrderItemFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalOrderItemFinder.id().eq(data.getId()));
+			return BitemporalOrderItemFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalOrderItemData data = (BitemporalOrderItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalOrderItemFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderItemData data = (BitemporalOrderItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return this.zSynchronizedGetData().isDiscountPriceNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return this.zSynchronizedGetData().isOriginalPriceNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemFinder.businessDateTo(), newValue, false );
+	}
+
+	public double getDiscountPrice()
+	{
+		BitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isDiscountPriceNull()) MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemFinder.discountPrice(), newValue, false ,true);
+	}
+
+	public void setDiscountPriceUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BitemporalOrderItemFinder.discountPrice(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementDiscountPrice(double increment)
+	{
+		zIncrement(increment, BitemporalOrderItemFinder.discountPrice(), false);
+	}
+
+	public void incrementDiscountPriceUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalOrderItemFinder.discountPrice(), false);
+	}
+
+	public int getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(BitemporalOrderItemFinder.id(), newValue, true ,false);
+		if (d == null) return;
+		BitemporalOrderItemData data = (BitemporalOrderItemData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			BitemporalOrderItemStatus orderItemStatus =
+			(BitemporalOrderItemStatus) data.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				orderItemStatus.setItemId(newValue);
+			}
+		}
+	}
+
+	public void setIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetInteger(BitemporalOrderItemFinder.id(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		BitemporalOrderItemData data = (BitemporalOrderItemData) d;
+		BitemporalOrderItemStatus orderItemStatus =
+		(BitemporalOrderItemStatus) data.getOrderItemStatus();
+		if (orderItemStatus != null)
+		{
+			orderItemStatus.setItemId(newValue);
+		}
+	}
+
+	public int getOrderId()
+	{
+		BitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isOrderIdNull()) MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemFinder.orderId(), newValue, false ,true);
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderItemFinder.orderId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public double getOriginalPrice()
+	{
+		BitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isOriginalPriceNull()) MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemFinder.originalPrice(), newValue, false ,true);
+	}
+
+	public void setOriginalPriceUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BitemporalOrderItemFinder.originalPrice(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementOriginalPrice(double increment)
+	{
+		zIncrement(increment, BitemporalOrderItemFinder.originalPrice(), false);
+	}
+
+	public void incrementOriginalPriceUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalOrderItemFinder.originalPrice(), false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		BitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemFinder.productId(), newValue, true ,true);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderItemFinder.productId(), newValue, true , exclusiveUntil,true);
+	}
+
+	public double getQuantity()
+	{
+		BitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BitemporalOrderItemFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, BitemporalOrderItemFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalOrderItemFinder.quantity(), false);
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderItemFinder.state(), newValue, false );
+	}
+
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderItemFinder.state(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BitemporalOrderItemFinder.orderId(), false, mustCheckCurrent);
+		zNullify(behavior, data, BitemporalOrderItemFinder.productId(), true, mustCheckCurrent);
+		zNullify(behavior, data, BitemporalOrderItemFinder.quantity(), false, mustCheckCurrent);
+		zNullify(behavior, data, BitemporalOrderItemFinder.originalPrice(), false, mustCheckCurrent);
+		zNullify(behavior, data, BitemporalOrderItemFinder.discountPrice(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalOrderItemData data2 = (BitemporalOrderItemData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalOrderItemFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setOrderIdNull()
+	{
+		zNullify(BitemporalOrderItemFinder.orderId(), false);
+	}
+
+	public void setOrderIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemFinder.orderId(), false, exclusiveUntil);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(BitemporalOrderItemFinder.productId(), false);
+	}
+
+	public void setProductIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemFinder.productId(), false, exclusiveUntil);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(BitemporalOrderItemFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zNullify(BitemporalOrderItemFinder.originalPrice(), false);
+	}
+
+	public void setOriginalPriceNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemFinder.originalPrice(), false, exclusiveUntil);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zNullify(BitemporalOrderItemFinder.discountPrice(), false);
+	}
+
+	public void setDiscountPriceNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemFinder.discountPrice(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalOrderItemData _newData = (BitemporalOrderItemData) _data;
+		if (_newData.getOrderItemStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderItemStatus orderItemStatus =
+			this.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				orderItemStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			BitemporalOrderItemStatus orderItemStatus =
+			(BitemporalOrderItemStatus) _newData.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				BitemporalOrderItemStatus _existing =
+				this.getOrderItemStatus();
+				if (_existing == null)
+				{
+					orderItemStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderItemStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderItemStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalOrderItemData _newData = (BitemporalOrderItemData) behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderItemStatus() != null && !(_newData.getOrderItemStatus() instanceof NulledRelation))
+		{
+			((BitemporalOrderItemStatus)_newData.getOrderItemStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalOrderItemData _newData = (BitemporalOrderItemData) behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderItemStatus() != null && !(_newData.getOrderItemStatus() instanceof NulledRelation))
+		{
+			((BitemporalOrderItemStatus)_newData.getOrderItemStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public Product getProductInfo()
+	{
+		Product _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = ProductFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forproductInfo, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+				if (_related == null)
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = ProductFinder.productId().eq(_data.getProductId());
+					_result = ProductFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Product) _data.getProductInfo();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProductInfo(Product productInfo)
+	{
+		Product _productInfo = (Product) productInfo;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductInfo(_productInfo);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSpecification.productId</pre>
+	* @return The product specs
+	*/
+	public ProductSpecification getProductSpecs()
+	{
+		ProductSpecification _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = ProductSpecificationFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forproductSpecs, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ProductSpecification) _related;
+				if (_related == null)
+				{
+					_op = ProductSpecificationFinder.productId().eq(_data.getProductId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = ProductSpecificationFinder.productId().eq(_data.getProductId());
+					_result = ProductSpecificationFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProductSpecification) _data.getProductSpecs();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = ProductSpecificationFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductSpecificationFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProductSpecs(ProductSpecification productSpecs)
+	{
+		ProductSpecification _productSpecs = (ProductSpecification) productSpecs;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductSpecs(_productSpecs);
+			if (_productSpecs == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productSpecs.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_productSpecs == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productSpecs.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = BitemporalOrderItemStatus.itemId</pre>
+	* @see BitemporalOrderItemStatus#getOrderItem() reverse relationship BitemporalOrderItemStatus.getOrderItem()
+	* @return The order item status
+	*/
+	public BitemporalOrderItemStatus getOrderItemStatus()
+	{
+		BitemporalOrderItemStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderItemStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderItemStatus,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderItemStatus) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.orderItemStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderItemStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BitemporalOrderItemStatus) _data.getOrderItemStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.orderItemStatus().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderItemStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderItemStatus(_result);
+				if (_result != null) _result.zSetParentContainerorderItem(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderItemStatus) _data.getOrderItemStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderItemStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderItemStatus(BitemporalOrderItemStatus orderItemStatus)
+	{
+		BitemporalOrderItemStatus _orderItemStatus = (BitemporalOrderItemStatus) orderItemStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderItemStatus();
+			_data.setOrderItemStatus(_orderItemStatus);
+			if (_orderItemStatus != null)
+			{
+				_orderItemStatus.setItemId(_data.getId());
+				_orderItemStatus.zSetParentContainerorderItem(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderItemStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			BitemporalOrderItemStatus _existing = this.getOrderItemStatus();
+			if (_orderItemStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_orderItemStatus != null)
+				{
+					_orderItemStatus.setItemId(_data.getId());
+					_orderItemStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrder.orderId = this.productId</pre>
+	* @return The order with same id as product
+	*/
+	public BitemporalOrder getOrderWithSameIdAsProduct()
+	{
+		BitemporalOrder _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = BitemporalOrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderWithSameIdAsProduct,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrder) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.orderWithSameIdAsProduct().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.orderWithSameIdAsProduct().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrder) _data.getOrderWithSameIdAsProduct();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.orderWithSameIdAsProduct().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderWithSameIdAsProduct(BitemporalOrder orderWithSameIdAsProduct)
+	{
+		BitemporalOrder _orderWithSameIdAsProduct = (BitemporalOrder) orderWithSameIdAsProduct;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderWithSameIdAsProduct(_orderWithSameIdAsProduct);
+			if (_orderWithSameIdAsProduct == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_orderWithSameIdAsProduct.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_orderWithSameIdAsProduct == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_orderWithSameIdAsProduct.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalProductCategory.productId = this.productId</pre>
+	* @return The product category
+	*/
+	public BitemporalProductCategory getProductCategory()
+	{
+		BitemporalProductCategory _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.productCategory().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.productCategory().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalProductCategoryFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalProductCategory) _data.getProductCategory();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.productCategory().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalProductCategoryFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProductCategory(BitemporalProductCategory productCategory)
+	{
+		BitemporalProductCategory _productCategory = (BitemporalProductCategory) productCategory;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductCategory(_productCategory);
+			if (_productCategory == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productCategory.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_productCategory == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productCategory.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrder.orderId</pre>
+	* @see BitemporalOrder#getItems() reverse relationship BitemporalOrder.getItems()
+	* @return The order
+	*/
+	public BitemporalOrder getOrder()
+	{
+		BitemporalOrder _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = BitemporalOrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrder) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BitemporalOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(BitemporalOrder order)
+	{
+		BitemporalOrder _order = (BitemporalOrder) order;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrder();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((BitemporalOrder)_prev).getItems()).zMarkMoved( (BitemporalOrderItem) this);
+			}
+
+			_data.setOrder(_order);
+			_order.getItems().add((BitemporalOrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_order == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerorder(BitemporalOrderAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderWi.orderId</pre>
+	* @see BitemporalOrderWi#getItemsWithoutInterfaces() reverse relationship BitemporalOrderWi.getItemsWithoutInterfaces()
+	* @return The bitemporal order with interface
+	*/
+	public BitemporalOrderWi getBitemporalOrderWithInterface()
+	{
+		BitemporalOrderWiImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = BitemporalOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forbitemporalOrderWithInterface,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.bitemporalOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.bitemporalOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderWiFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderWiImpl) _data.getBitemporalOrderWithInterface();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.bitemporalOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setBitemporalOrderWithInterface(BitemporalOrderWi bitemporalOrderWithInterface)
+	{
+		BitemporalOrderWiImpl _bitemporalOrderWithInterface = (BitemporalOrderWiImpl) bitemporalOrderWithInterface;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setBitemporalOrderWithInterface(_bitemporalOrderWithInterface);
+			if (_bitemporalOrderWithInterface == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_bitemporalOrderWithInterface.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_bitemporalOrderWithInterface == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_bitemporalOrderWithInterface.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyBitemporalOrderWi.orderId</pre>
+	* @see ReadOnlyBitemporalOrderWi#getItemsWithoutInterface() reverse relationship ReadOnlyBitemporalOrderWi.getItemsWithoutInterface()
+	* @return The read only dated order with interface
+	*/
+	public ReadOnlyBitemporalOrderWi getReadOnlyDatedOrderWithInterface()
+	{
+		ReadOnlyBitemporalOrderWiImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forreadOnlyDatedOrderWithInterface,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyBitemporalOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.readOnlyDatedOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.readOnlyDatedOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+					_result = ReadOnlyBitemporalOrderWiFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ReadOnlyBitemporalOrderWiImpl) _data.getReadOnlyDatedOrderWithInterface();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemFinder.readOnlyDatedOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ReadOnlyBitemporalOrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setReadOnlyDatedOrderWithInterface(ReadOnlyBitemporalOrderWi readOnlyDatedOrderWithInterface)
+	{
+		ReadOnlyBitemporalOrderWiImpl _readOnlyDatedOrderWithInterface = (ReadOnlyBitemporalOrderWiImpl) readOnlyDatedOrderWithInterface;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemData _data = (BitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setReadOnlyDatedOrderWithInterface(_readOnlyDatedOrderWithInterface);
+			if (_readOnlyDatedOrderWithInterface == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_readOnlyDatedOrderWithInterface.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_readOnlyDatedOrderWithInterface == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_readOnlyDatedOrderWithInterface.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalOrderItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalOrderItemData.BitemporalOrderItemDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalOrderItemData data = (BitemporalOrderItemData) BitemporalOrderItemFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalOrderItem has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalOrderItemData( BitemporalOrderItemData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalOrderItemData( BitemporalOrderItemData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalOrderItemFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalOrderItemAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderItemAbstract from = (BitemporalOrderItemAbstract) f;
+		BitemporalOrderItemData newData = from.zSynchronizedGetData();
+		if (from.isDiscountPriceNull())
+		{
+			this.setDiscountPriceNull();
+		}
+		else
+		{
+			this.setDiscountPrice(newData.getDiscountPrice());
+		}
+
+		if (from.isOrderIdNull())
+		{
+			this.setOrderIdNull();
+		}
+		else
+		{
+			this.setOrderId(newData.getOrderId());
+		}
+
+		if (from.isOriginalPriceNull())
+		{
+			this.setOriginalPriceNull();
+		}
+		else
+		{
+			this.setOriginalPrice(newData.getOriginalPrice());
+		}
+
+		if (from.isProductIdNull())
+		{
+			this.setProductIdNull();
+		}
+		else
+		{
+			this.setProductId(newData.getProductId());
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+
+		this.setState(newData.getState());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderItemData _newData = (BitemporalOrderItemData) _data;
+		if (_newData.getOrderItemStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderItemStatus orderItemStatus =
+			this.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				orderItemStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			BitemporalOrderItemStatus orderItemStatus =
+			(BitemporalOrderItemStatus) _newData.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				BitemporalOrderItemStatus _existing =
+				this.getOrderItemStatus();
+				if (_existing == null)
+				{
+					orderItemStatus.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+				}
+				else
+				{
+					_existing.copyNonPrimaryKeyAttributesUntilFrom( orderItemStatus, exclusiveUntil );
+				}
+			}
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderItemData _newData = (BitemporalOrderItemData) _data;
+		BitemporalOrderItemStatus orderItemStatus =
+		(BitemporalOrderItemStatus) _newData.getOrderItemStatus();
+		if (orderItemStatus != null)
+		{
+			orderItemStatus.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalOrderItemAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderItemAbstract from = (BitemporalOrderItemAbstract)f;
+		BitemporalOrderItemData newData = from.zSynchronizedGetData();
+		if (from.isDiscountPriceNull())
+		{
+			this.setDiscountPriceNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setDiscountPriceUntil(newData.getDiscountPrice(), exclusiveUntil);
+		}
+
+		if (from.isOrderIdNull())
+		{
+			this.setOrderIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setOrderIdUntil(newData.getOrderId(), exclusiveUntil);
+		}
+
+		if (from.isOriginalPriceNull())
+		{
+			this.setOriginalPriceNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setOriginalPriceUntil(newData.getOriginalPrice(), exclusiveUntil);
+		}
+
+		if (from.isProductIdNull())
+		{
+			this.setProductIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setProductIdUntil(newData.getProductId(), exclusiveUntil);
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+
+		this.setStateUntil(newData.getState(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalOrderItemData newData = (BitemporalOrderItemData) d;
+		BitemporalOrderItemData data = (BitemporalOrderItemData) nd;
+		if (BitemporalOrderItemFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemFinder.discountPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemFinder.id(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemFinder.orderId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemFinder.originalPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemFinder.productId(), true);
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderItemFinder.state(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemFinder.discountPrice(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemFinder.id(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemFinder.orderId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemFinder.originalPrice(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemFinder.productId(), true, until);
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemFinder.quantity(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderItemFinder.state(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		{
+			BitemporalOrderItemStatus related = this.getOrderItemStatus();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		{
+			BitemporalOrderItemStatus related = this.getOrderItemStatus();
+			if (related != null)
+			related.cascadeTerminateUntil(exclusiveUntil);
+		}
+
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderItemData data = ((BitemporalOrderItemData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderItemData data = ((BitemporalOrderItemData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderItemData data = ((BitemporalOrderItemData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderItemFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderItemData localData = (BitemporalOrderItemData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class OrderItemStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderItemStatus item = (BitemporalOrderItemStatus) relatedObject;
+			item.setItemId(getId());
+			item.zSetParentContainerorderItem(BitemporalOrderItemAbstract.this);
+		}
+	}
+
+	protected class OrderItemStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderItemStatus item = (BitemporalOrderItemStatus) relatedObject;
+			item.setItemId(getId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,672 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class BitemporalOrderItemNullDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ORDER_ID,PRODUCT_ID,QUANTITY,ORIGINAL_PRICE,DISCOUNT_PRICE,\"STATE\",IN_Z,OUT_Z,FROM_Z,THRU_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ORDER_ID,t0.PRODUCT_ID,t0.QUANTITY,t0.ORIGINAL_PRICE,t0.DISCOUNT_PRICE,t0.\"STATE\",t0.IN_Z,t0.OUT_Z,t0.FROM_Z,t0.THRU_Z";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected BitemporalOrderItemNullDatabaseObjectAbstract()
+	{
+		super("BitemporalOrderItemNull", "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemNullFinder",
+			11, 11,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderItemNullFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return BitemporalOrderItemNullFinder.getFinderInstance();
+	}
+
+	public static BitemporalOrderItemNullData allocateOnHeapData()
+	{
+		return new BitemporalOrderItemNullData.BitemporalOrderItemNullDataOnHeap();
+	}
+
+	public static BitemporalOrderItemNullData allocateOffHeapData()
+	{
+		return new BitemporalOrderItemNullData.BitemporalOrderItemNullDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new BitemporalOrderItemNullData.BitemporalOrderItemNullDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), BitemporalOrderItemNullFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), BitemporalOrderItemNullFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		BitemporalOrderItemNullData data = new BitemporalOrderItemNullData.BitemporalOrderItemNullDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), BitemporalOrderItemNullFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), BitemporalOrderItemNullFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(BitemporalOrderItemNullData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemNull", BitemporalOrderItemNullFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("BitemporalOrderItemNull"));
+			BitemporalOrderItemNullData.BitemporalOrderItemNullDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(BitemporalOrderItemNullFinder.getPrimaryKeyAttributes(), BitemporalOrderItemNullFinder.getAsOfAttributes(), this, BitemporalOrderItemNullFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(BitemporalOrderItemNullFinder.getPrimaryKeyAttributes(), BitemporalOrderItemNullFinder.getAsOfAttributes(), this, BitemporalOrderItemNullFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(BitemporalOrderItemNullFinder.getPrimaryKeyAttributes(), BitemporalOrderItemNullFinder.getAsOfAttributes(), this, BitemporalOrderItemNullFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(BitemporalOrderItemNullFinder.getPrimaryKeyAttributes(), BitemporalOrderItemNullFinder.getAsOfAttributes(), this, BitemporalOrderItemNullFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(BitemporalOrderItemNullFinder.getPrimaryKeyAttributes(), BitemporalOrderItemNullFinder.getAsOfAttributes(), this, BitemporalOrderItemNullFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(BitemporalOrderItemNullData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemNull", BitemporalOrderItemNullFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			BitemporalOrderItemNullData.BitemporalOrderItemNullDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(BitemporalOrderItemNullFinder.getPrimaryKeyAttributes(), BitemporalOrderItemNullFinder.getAsOfAttributes(), this, BitemporalOrderItemNullFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(BitemporalOrderItemNullFinder.getPrimaryKeyAttributes(), BitemporalOrderItemNullFinder.getAsOfAttributes(), this, BitemporalOrderItemNullFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			BitemporalOrderItemNullFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			BitemporalOrderItemNullFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			BitemporalOrderItemNull.zConfigFullTx();
+		}
+		else
+		{
+			BitemporalOrderItemNull.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBitemporalOrderItemNullData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkBitemporalOrderItemNullData(1, (BitemporalOrderItemNullData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBitemporalOrderItemNullPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getBitemporalOrderItemNullTableName();
+	}
+
+	public String getBitemporalOrderItemNullTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BitemporalOrderItemNullData data = (BitemporalOrderItemNullData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (BitemporalOrderItemNullFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BitemporalOrderItemNullData data = (BitemporalOrderItemNullData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		if (data.getBusinessDateTo() != null)
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getBusinessDateTo().getTime() == BitemporalOrderItemNullFinder.businessDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.getProcessingDateTo() != null)
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getProcessingDateTo().getTime() == BitemporalOrderItemNullFinder.processingDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (BitemporalOrderItemNullFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.ORDER_ID,t0.PRODUCT_ID,t0.QUANTITY,t0.ORIGINAL_PRICE,t0.DISCOUNT_PRICE,t0.\"STATE\",t0.IN_Z,t0.OUT_Z,t0.FROM_Z,t0.THRU_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*11);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("ORDER_ID");
+		result.append(",").append(databaseAlias).append(".").append("PRODUCT_ID");
+		result.append(",").append(databaseAlias).append(".").append("QUANTITY");
+		result.append(",").append(databaseAlias).append(".").append("ORIGINAL_PRICE");
+		result.append(",").append(databaseAlias).append(".").append("DISCOUNT_PRICE");
+		result.append(",").append(databaseAlias).append(".").append("\"STATE\"");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public BitemporalOrderItemNullData inflateBitemporalOrderItemNullData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		BitemporalOrderItemNullData data = inflateBitemporalOrderItemNullPkData(rs, dt);
+		inflateNonPkBitemporalOrderItemNullData(2, data, rs, dt);
+		return data;
+	}
+
+	public BitemporalOrderItemNullData inflateBitemporalOrderItemNullPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		BitemporalOrderItemNullData _data = new BitemporalOrderItemNullData.BitemporalOrderItemNullDataOnHeap();
+		int _pos = 1;
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkBitemporalOrderItemNullData(int _pos, BitemporalOrderItemNullData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			BitemporalOrderItemNullData _data = _datax;
+			_data.setOrderId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOrderIdNull();
+			}
+
+			_data.setProductId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProductIdNull();
+			}
+
+			_data.setQuantity(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setQuantityNull();
+			}
+
+			_data.setOriginalPrice(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOriginalPriceNull();
+			}
+
+			_data.setDiscountPrice(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDiscountPriceNull();
+			}
+
+			_data.setState(trimString(_rs.getString(_pos++)));
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getBitemporalOrderItemNullTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "BITEMPORAL_ORDER_ITEM_NULL";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		BitemporalOrderItemNullData data = (BitemporalOrderItemNullData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		if (data.isOrderIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getOrderId());
+		}
+
+		if (data.isProductIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getProductId());
+		}
+
+		if (data.isQuantityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getQuantity());
+		}
+
+		if (data.isOriginalPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOriginalPrice());
+		}
+
+		if (data.isDiscountPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getDiscountPrice());
+		}
+
+		if (data.isStateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getState());
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if (data.isProcessingDateToNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getProcessingDateTo().getTime() == BitemporalOrderItemNullFinder.processingDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if (data.isBusinessDateToNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getBusinessDateTo().getTime() == BitemporalOrderItemNullFinder.businessDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,ORDER_ID,PRODUCT_ID,QUANTITY,ORIGINAL_PRICE,DISCOUNT_PRICE,\"STATE\",IN_Z,OUT_Z,FROM_Z,THRU_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderItemNull newObject = new BitemporalOrderItemNull(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromBitemporalOrderItemNullData((BitemporalOrderItemNullData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(BitemporalOrderItemNullFinder.getMithraObjectPortal(),
+			BitemporalOrderItemNullFinder.processingDate())
+		,BitemporalOrderItemNullFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		if (((BitemporalOrderItemNullData)data).getBusinessDateTo() == null)
+		{
+			result +="THRU_Z is null";
+		}
+		else 
+		{
+			result +="THRU_Z = ?";
+		}
+
+		result += " AND ";
+		if (((BitemporalOrderItemNullData)data).getProcessingDateTo() == null)
+		{
+			result +="OUT_Z is null";
+		}
+		else 
+		{
+			result +="OUT_Z = ?";
+		}
+
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BitemporalOrderItemNullData data = (BitemporalOrderItemNullData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, BitemporalOrderItemNullFinder.businessDate(),
+			BitemporalOrderItemNullFinder.processingDate());
+	}
+}
@@ -0,0 +1,933 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalOrderItemNullFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalOrderItemNull";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemNull";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderItemNull");
+	private static final BitemporalOrderItemNullSingleFinder<BitemporalOrderItemNull, Object, BitemporalOrderItemNull> finder = new BitemporalOrderItemNullSingleFinder<BitemporalOrderItemNull, Object, BitemporalOrderItemNull>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalOrderItemNullFinder.BitemporalOrderItemNullRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("originalPrice");
+		finderMethodMap.addNormalAttributeName("discountPrice");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("order");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalOrderItemNull findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalOrderItemNull findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalOrderItemNullList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderItemNullList) finder.findMany(operation);
+	}
+
+	public static BitemporalOrderItemNullList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderItemNullList) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalOrderItemNull findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalOrderItemNull) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalOrderItemNull findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderItemNullData _castedTargetData = (BitemporalOrderItemNullData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return BitemporalOrderItemNullFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderItemNullFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BitemporalOrderItemNull zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalOrderItemNull) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalOrderItemNullRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalOrderItemNull, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> originalPrice;
+		private DoubleAttribute<ParentOwnerType> discountPrice;
+		private StringAttribute<ParentOwnerType> state;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private BitemporalOrderItemNullOrderFinderSubclass<ParentOwnerType> order;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalOrderItemNullRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalOrderItemNullRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemNullFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalOrderItemNullFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalOrderItemNullFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalOrderItemNullFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[11];
+			attributes[0] = this.id();
+			attributes[1] = this.orderId();
+			attributes[2] = this.productId();
+			attributes[3] = this.quantity();
+			attributes[4] = this.originalPrice();
+			attributes[5] = this.discountPrice();
+			attributes[6] = this.state();
+			attributes[7] = this.processingDateFrom();
+			attributes[8] = this.processingDateTo();
+			attributes[9] = this.businessDateFrom();
+			attributes[10] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.order());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalOrderItemNull findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderItemNullFinder.findOne(operation, false);
+		}
+
+		public BitemporalOrderItemNull findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderItemNullFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalOrderItemNull> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalOrderItemNullList((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalOrderItemNull> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalOrderItemNullList result = (BitemporalOrderItemNullList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalOrderItemNull> constructEmptyList()
+		{
+			return new BitemporalOrderItemNullList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 2117264279;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderItemNullFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,36,4,1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderItemNullFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "BitemporalOrderNull", "items");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,64,4,3,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderItemNullFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,68,4,4, false) :
+					new MappedDoubleAttribute(BitemporalOrderItemNullFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> originalPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.originalPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ORIGINAL_PRICE","","originalPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,40,4,2, false) :
+					new MappedDoubleAttribute(BitemporalOrderItemNullFinder.originalPrice(), this.mapper, this.zGetValueSelector());
+				this.originalPrice = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> discountPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.discountPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DISCOUNT_PRICE","","discountPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,4,0, false) :
+					new MappedDoubleAttribute(BitemporalOrderItemNullFinder.discountPrice(), this.mapper, this.zGetValueSelector());
+				this.discountPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,76,-1,-1,20,true, false) :
+					new MappedStringAttribute(BitemporalOrderItemNullFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderItemNullFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemNullFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,56,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderItemNullFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemNullFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderItemNullFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemNullFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderItemNullFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemNullFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttributeInfiniteNull.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalOrderItemNullFinder.businessDateInfinity,false,false,BitemporalOrderItemNullFinder.businessDateDefault,false,true) :
+					new MappedAsOfAttribute(BitemporalOrderItemNullFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttributeInfiniteNull.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalOrderItemNullFinder.processingDateInfinity,false,false,BitemporalOrderItemNullFinder.processingDateDefault,true,true) :
+					new MappedAsOfAttribute(BitemporalOrderItemNullFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderNullFinder.BitemporalOrderNullSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderNull, BitemporalOrderItemNull> order()
+		{
+			BitemporalOrderItemNullOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderNullFinder.zGetBitemporalOrderNullItemsMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderItemNullOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalOrderItemNullFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalOrderItemNullFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalOrderItemNullCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalOrderItemNullRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderItemNullList, OwnerType>
+	{
+		public BitemporalOrderItemNullCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalOrderItemNullCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalOrderItemNullCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderItemNullCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalOrderItemNullSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderItemNullRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderItemNullList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalOrderItemNullSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalOrderItemNullSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalOrderItemNull other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrderItemNull findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrderItemNull _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderItemNull) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalOrderItemNullSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderItemNullSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderItemNullSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.ID **/
+	public static IntegerAttribute<BitemporalOrderItemNull> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.ORDER_ID **/
+	public static IntegerAttribute<BitemporalOrderItemNull> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.PRODUCT_ID **/
+	public static IntegerAttribute<BitemporalOrderItemNull> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.QUANTITY **/
+	public static DoubleAttribute<BitemporalOrderItemNull> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.ORIGINAL_PRICE **/
+	public static DoubleAttribute<BitemporalOrderItemNull> originalPrice()
+	{
+		return finder.originalPrice();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.DISCOUNT_PRICE **/
+	public static DoubleAttribute<BitemporalOrderItemNull> discountPrice()
+	{
+		return finder.discountPrice();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL."STATE" **/
+	public static StringAttribute<BitemporalOrderItemNull> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.IN_Z **/
+	public static TimestampAttribute<BitemporalOrderItemNull> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.OUT_Z **/
+	public static TimestampAttribute<BitemporalOrderItemNull> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.FROM_Z **/
+	public static TimestampAttribute<BitemporalOrderItemNull> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_NULL.THRU_Z **/
+	public static TimestampAttribute<BitemporalOrderItemNull> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalOrderItemNull> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalOrderItemNull> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static BitemporalOrderNullFinder.BitemporalOrderNullSingleFinderForRelatedClasses<BitemporalOrderItemNull, BitemporalOrderNull, BitemporalOrderItemNull> order()
+	{
+		return finder.order();
+	}
+
+	public static class BitemporalOrderItemNullOrderFinderSubclass<ParentOwnerType> extends BitemporalOrderNullFinder.BitemporalOrderNullSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderNull, BitemporalOrderItemNull>
+	{
+		public BitemporalOrderItemNullOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderNullFinder.orderId(),
+				BitemporalOrderNullFinder.businessDate(),
+				BitemporalOrderNullFinder.processingDate()).withExtractors(
+				BitemporalOrderItemNullFinder.orderId(),
+				BitemporalOrderItemNullFinder.businessDate(),
+				BitemporalOrderItemNullFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemNullOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderNull plainValueOf(BitemporalOrderItemNull _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected BitemporalOrderNullList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderItemNullList)_obj).getOrders();
+		}
+	}
+
+	public static Operation eq(BitemporalOrderItemNull other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static BitemporalOrderItemNullSingleFinder<BitemporalOrderItemNull, Object, BitemporalOrderItemNull> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[3];
+		result[0] = quantity();
+		result[1] = originalPrice();
+		result[2] = discountPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderItemNull");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,235 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderItemNullListAbstract extends DelegatingList<BitemporalOrderItemNull> implements MithraDatedTransactionalList<BitemporalOrderItemNull>
+{
+	public BitemporalOrderItemNullListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderItemNullListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderItemNullListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderItemNullListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderItemNull[] elements()
+	{
+		BitemporalOrderItemNull[] result = new BitemporalOrderItemNull[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderItemNullList intersection(BitemporalOrderItemNullList another)
+	{
+		return (BitemporalOrderItemNullList)super.intersection(another);
+	}
+
+	public BitemporalOrderItemNull getBitemporalOrderItemNullAt(int index)
+	{
+		return (BitemporalOrderItemNull)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderNull.orderId</pre>
+	* @see BitemporalOrderNull#getItems() reverse relationship BitemporalOrderNull.getItems()
+	* @return The order
+	*/
+	public BitemporalOrderNullList getOrders()
+	{
+		return (BitemporalOrderNullList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderItemNullFinder.order());
+	}
+
+	public void zSetParentContainerorder(BitemporalOrderNullAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			BitemporalOrderItemNull item = this.getBitemporalOrderItemNullAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderItemNullFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderItemNullList getNonPersistentCopy()
+	{
+		BitemporalOrderItemNullList result = new BitemporalOrderItemNullList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderItemNullList asAdhoc()
+	{
+		return (BitemporalOrderItemNullList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderItemNull> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderItemNullList merge(MithraTransactionalList<BitemporalOrderItemNull> incoming, TopLevelMergeOptions<BitemporalOrderItemNull> mergeOptions)
+	{
+		return (BitemporalOrderItemNullList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderItemNullList getDetachedCopy()
+	{
+		BitemporalOrderItemNullList result = new BitemporalOrderItemNullList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemNullFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemNullFinder.orderId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemNullFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemNullFinder.quantity(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemNullFinder.originalPrice(), newValue);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemNullFinder.discountPrice(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(BitemporalOrderItemNullFinder.state(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemNullFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemNullFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemNullFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemNullFinder.businessDateTo(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemNullFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemNullFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemNullFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemNullFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemNullFinder.discountPrice());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
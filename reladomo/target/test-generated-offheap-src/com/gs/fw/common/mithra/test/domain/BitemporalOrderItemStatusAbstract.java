@@ -0,0 +1,758 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalOrderItemStatusAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalOrderItemStatusFinder.businessDate()
+	,
+		BitemporalOrderItemStatusFinder.processingDate()
+	, BitemporalOrderItemStatusFinder.zGetDoubleAttributes(),BitemporalOrderItemStatusFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalOrderItemStatus.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororderItem = new OrderItemRhs();
+	private static final class OrderItemRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderItemFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderItemFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderItemStatus _castedSrcObject = (BitemporalOrderItemStatus) _srcObject;
+			BitemporalOrderItemStatusData _castedSrcData = (BitemporalOrderItemStatusData) _srcData;
+			BitemporalOrderItemData _castedTargetData = (BitemporalOrderItemData) _targetData;
+			if (_castedSrcData.getItemId() == _castedTargetData.getId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderItemStatusData _castedSrcData = (BitemporalOrderItemStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getItemId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public BitemporalOrderItemStatusAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalOrderItemStatusFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalOrderItemStatusFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalOrderItemStatusAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalOrderItemStatusData zSynchronizedGetData()
+	{
+		return (BitemporalOrderItemStatusData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalOrderItemStatusFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalOrderItemStatusFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public BitemporalOrderItemStatus zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemStatus original = (BitemporalOrderItemStatus) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderItemStatus copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalOrderItemStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderItemStatus copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderItemStatus) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalOrderItemStatusFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalOrderItemStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderItemStatusAbstract result = (BitemporalOrderItemStatusAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalOrderItemStatus ) result;
+	}
+
+	public BitemporalOrderItemStatus zFindOriginal()
+	{
+		BitemporalOrderItemStatusData data = (BitemporalOrderItemStatusData) this.currentData;
+		Operation op;
+		op = BitemporalOrderItemStatusFinder.itemId().eq(data.getItemId());
+		op = op.and(BitemporalOrderItemStatusFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalOrderItemStatusFinder.processingDate().eq(this.getProcessingDate()));
+		return BitemporalOrderItemStatusFinder.findOne(op);
+	}
+
+	public BitemporalOrderItemStatus getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderItemStatusAbstract result = (BitemporalOrderItemStatusAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalOrderItemStatus ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalOrderItemStatus copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderItemStatus) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalOrderItemStatus copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalOrderItemStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalOrderItemStatusData data = (BitemporalOrderItemStatusData) this.currentData;
+			Operation op = BitemporalOrderItemStatusFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalOrderItemStatusFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalOrderItemStatusFinder.itemId().eq(data.getItemId()));
+			return BitemporalOrderItemStatusFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalOrderItemStatusData data = (BitemporalOrderItemStatusData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalOrderItemStatusFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderItemStatusData data = (BitemporalOrderItemStatusData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isItemIdNull()
+	{
+		return this.zSynchronizedGetData().isItemIdNull();
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return this.zSynchronizedGetData().isLastUpdateTimeNull();
+	}
+
+	public boolean isLastUserNull()
+	{
+		return this.zSynchronizedGetData().isLastUserNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStatusNull()
+	{
+		return this.zSynchronizedGetData().isStatusNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.businessDateTo(), newValue, false );
+	}
+
+	public int getItemId()
+	{
+		return this.zSynchronizedGetData().getItemId();
+	}
+
+	public void setItemId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemStatusFinder.itemId(), newValue, true ,false);
+	}
+
+	public void setItemIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderItemStatusFinder.itemId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		return this.zSynchronizedGetData().getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.lastUpdateTime(), newValue, false );
+	}
+
+	public void setLastUpdateTimeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.lastUpdateTime(), newValue, false , exclusiveUntil);
+	}
+
+	public String getLastUser()
+	{
+		return this.zSynchronizedGetData().getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderItemStatusFinder.lastUser(), newValue, false );
+	}
+
+	public void setLastUserUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderItemStatusFinder.lastUser(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getStatus()
+	{
+		BitemporalOrderItemStatusData data = this.zSynchronizedGetData();
+		if (data.isStatusNull()) MithraNullPrimitiveException.throwNew("status", data);
+		return data.getStatus();
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemStatusFinder.status(), newValue, false ,true);
+	}
+
+	public void setStatusUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderItemStatusFinder.status(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BitemporalOrderItemStatusFinder.status(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalOrderItemStatusData data2 = (BitemporalOrderItemStatusData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalOrderItemStatusFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setStatusNull()
+	{
+		zNullify(BitemporalOrderItemStatusFinder.status(), false);
+	}
+
+	public void setStatusNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemStatusFinder.status(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalOrderItemStatusData _newData = (BitemporalOrderItemStatusData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalOrderItemStatusData _newData = (BitemporalOrderItemStatusData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalOrderItemStatusData _newData = (BitemporalOrderItemStatusData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.id = this.itemId</pre>
+	* @see BitemporalOrderItem#getOrderItemStatus() reverse relationship BitemporalOrderItem.getOrderItemStatus()
+	* @return The order item
+	*/
+	public BitemporalOrderItem getOrderItem()
+	{
+		BitemporalOrderItem _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemStatusData _data = (BitemporalOrderItemStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderItemFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderItem,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderItem) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemStatusFinder.orderItem().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderItem() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BitemporalOrderItem) _data.getOrderItem();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderItemStatusFinder.orderItem().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderItemFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderItemStatusData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderItem(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderItem) _data.getOrderItem();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemStatusFinder.orderItem().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderItem(BitemporalOrderItem orderItem)
+	{
+		((BitemporalOrderItem)orderItem).setOrderItemStatus((BitemporalOrderItemStatus)this);
+	}
+
+	public void zSetParentContainerorderItem(BitemporalOrderItemAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemStatusData _data = (BitemporalOrderItemStatusData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderItem(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalOrderItemStatusFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalOrderItemStatusData.BitemporalOrderItemStatusDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalOrderItemStatusData data = (BitemporalOrderItemStatusData) BitemporalOrderItemStatusFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalOrderItemStatus has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalOrderItemStatusData( BitemporalOrderItemStatusData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalOrderItemStatusData( BitemporalOrderItemStatusData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalOrderItemStatusFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalOrderItemStatusFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderItemStatus getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalOrderItemStatusAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderItemStatusAbstract from = (BitemporalOrderItemStatusAbstract) f;
+		BitemporalOrderItemStatusData newData = from.zSynchronizedGetData();
+		this.setLastUpdateTime(newData.getLastUpdateTime());
+		this.setLastUser(newData.getLastUser());
+		if (from.isStatusNull())
+		{
+			this.setStatusNull();
+		}
+		else
+		{
+			this.setStatus(newData.getStatus());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderItemStatusData _newData = (BitemporalOrderItemStatusData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderItemStatusData _newData = (BitemporalOrderItemStatusData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalOrderItemStatusAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderItemStatusAbstract from = (BitemporalOrderItemStatusAbstract)f;
+		BitemporalOrderItemStatusData newData = from.zSynchronizedGetData();
+		this.setLastUpdateTimeUntil(newData.getLastUpdateTime(), exclusiveUntil);
+		this.setLastUserUntil(newData.getLastUser(), exclusiveUntil);
+		if (from.isStatusNull())
+		{
+			this.setStatusNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setStatusUntil(newData.getStatus(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalOrderItemStatusData newData = (BitemporalOrderItemStatusData) d;
+		BitemporalOrderItemStatusData data = (BitemporalOrderItemStatusData) nd;
+		if (BitemporalOrderItemStatusFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemStatusFinder.itemId(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderItemStatusFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderItemStatusFinder.lastUser(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemStatusFinder.status(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemStatusFinder.itemId(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderItemStatusFinder.lastUpdateTime(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderItemStatusFinder.lastUser(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemStatusFinder.status(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderItemStatusData data = ((BitemporalOrderItemStatusData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderItemStatusData data = ((BitemporalOrderItemStatusData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderItemStatusData data = ((BitemporalOrderItemStatusData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderItemStatusFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderItemStatusFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderItemStatusData localData = (BitemporalOrderItemStatusData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
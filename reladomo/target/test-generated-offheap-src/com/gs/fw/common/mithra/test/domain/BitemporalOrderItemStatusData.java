@@ -0,0 +1,1163 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface BitemporalOrderItemStatusData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 60;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isItemIdNull();
+	int getItemId();
+	void setItemId(int value);
+	void setItemIdNull();
+	boolean isLastUpdateTimeNull();
+	Timestamp getLastUpdateTime();
+	void setLastUpdateTime(Timestamp value);
+	void setLastUpdateTimeNull();
+	long zGetLastUpdateTimeAsLong();
+	boolean isLastUserNull();
+	String getLastUser();
+	void setLastUser(String value);
+	void setLastUserNull();
+	int zGetLastUserAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isStatusNull();
+	int getStatus();
+	void setStatus(int value);
+	void setStatusNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getOrderItem();
+	void setOrderItem(Object related);
+	public class BitemporalOrderItemStatusDataOnHeap implements BitemporalOrderItemStatusData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private int itemId;
+		private Timestamp lastUpdateTime;
+		private String lastUser;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int status;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isItemIdNull()
+		{
+			return false;
+		}
+
+		public boolean isLastUpdateTimeNull()
+		{
+			return this.getLastUpdateTime() == null;
+		}
+
+		public boolean isLastUserNull()
+		{
+			return this.getLastUser() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStatusNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalOrderItemStatusFinder.businessDate().getInfinityDate());
+			out.writeInt(this.itemId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastUpdateTime);
+			out.writeObject(this.lastUser);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalOrderItemStatusFinder.processingDate().getInfinityDate());
+			out.writeInt(this.status);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getItemId()
+		{
+			return this.itemId;
+		}
+
+		public void setItemId(int value)
+		{
+			this.itemId = value;
+		}
+
+		public void setItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getLastUpdateTime()
+		{
+			return this.lastUpdateTime;
+		}
+
+		public long zGetLastUpdateTimeAsLong()
+		{
+			if (lastUpdateTime == null) return TimestampPool.OFF_HEAP_NULL;
+			return lastUpdateTime.getTime();
+		}
+
+		public void setLastUpdateTime(Timestamp value)
+		{
+			this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void setLastUpdateTimeNull()
+		{
+			this.setLastUpdateTime(null);
+		}
+
+		public String getLastUser()
+		{
+			return this.lastUser;
+		}
+
+		public int zGetLastUserAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(lastUser);
+		}
+
+		public void setLastUser(String value)
+		{
+			this.lastUser = StringPool.getInstance().getOrAddToCache(value, BitemporalOrderItemStatusFinder.isFullCache());
+		}
+
+		public void setLastUserNull()
+		{
+			this.setLastUser(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getStatus()
+		{
+			return this.status;
+		}
+
+		public void setStatus(int value)
+		{
+			this.status = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setStatusNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(BitemporalOrderItemStatusDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.itemId = this.itemId;
+			copy.lastUpdateTime = this.lastUpdateTime;
+			copy.lastUser = this.lastUser;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.status = this.status;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderItemStatusFinder.businessDate().getInfinityDate()), BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+			this.itemId = in.readInt();
+			this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+			this.lastUser = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BitemporalOrderItemStatusFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderItemStatusFinder.processingDate().getInfinityDate()), BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+			this.status = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final BitemporalOrderItemStatusData otherData = (BitemporalOrderItemStatusData) other;
+			if (getItemId() != otherData.getItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BitemporalOrderItemStatusFinder.businessDate().getInfinityDate());
+			out.writeInt(this.itemId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BitemporalOrderItemStatusFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderItemStatusFinder.businessDate().getInfinityDate()), BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+			this.itemId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BitemporalOrderItemStatusFinder.processingDate().getInfinityDate()), BitemporalOrderItemStatusFinder.isFullCache(), BitemporalOrderItemStatusFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getOrderItem()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setOrderItem(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			BitemporalOrderItemStatusDataOffHeap data = new BitemporalOrderItemStatusDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setItemId(this.getItemId());
+			data.setLastUpdateTime(this.getLastUpdateTime());
+			data.setLastUser(this.getLastUser());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setStatus(this.getStatus());
+			if (this.isStatusNull()) data.setStatusNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final BitemporalOrderItemStatusData bitemporalOrderItemStatusData = (BitemporalOrderItemStatusData) newData;
+			this.setBusinessDateFrom(bitemporalOrderItemStatusData.getBusinessDateFrom());
+			this.setBusinessDateTo(bitemporalOrderItemStatusData.getBusinessDateTo());
+			this.setLastUpdateTime(bitemporalOrderItemStatusData.getLastUpdateTime());
+			this.setLastUser(bitemporalOrderItemStatusData.getLastUser());
+			this.setProcessingDateFrom(bitemporalOrderItemStatusData.getProcessingDateFrom());
+			this.setProcessingDateTo(bitemporalOrderItemStatusData.getProcessingDateTo());
+			this.setStatus(bitemporalOrderItemStatusData.getStatus());
+			if (bitemporalOrderItemStatusData.isStatusNull()) this.setStatusNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final BitemporalOrderItemStatusData other = (BitemporalOrderItemStatusData) newData;
+			if (!isLastUpdateTimeNull() ? !getLastUpdateTime().equals(other.getLastUpdateTime()) : !other.isLastUpdateTimeNull())
+			{
+				return true;
+			}
+
+			if (!isLastUserNull() ? !getLastUser().equals(other.getLastUser()) : !other.isLastUserNull())
+			{
+				return true;
+			}
+
+			if ( isStatusNull() != other.isStatusNull() || getStatus() != other.getStatus())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			BitemporalOrderItemStatusDataOnHeap copy = new BitemporalOrderItemStatusDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			BitemporalOrderItemStatusDataOnHeap copy = new BitemporalOrderItemStatusDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "itemId: "+(""+getItemId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			BitemporalOrderItemStatusData otherData = (BitemporalOrderItemStatusData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			BitemporalOrderItemStatusData otherData = (BitemporalOrderItemStatusData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemStatusData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return BitemporalOrderItemStatusFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return BitemporalOrderItemStatusFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemStatusData";
+		}
+	}
+
+	public class BitemporalOrderItemStatusDataOffHeap extends MithraOffHeapDataObject implements BitemporalOrderItemStatusData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public BitemporalOrderItemStatusDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 28);
+			this.zSetTimestamp(_storage, value, 40);
+			this.zSetTimestamp(_storage, value, 48);
+		}
+
+		public BitemporalOrderItemStatusDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isItemIdNull()
+		{
+			return false;
+		}
+
+		public boolean isLastUpdateTimeNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public boolean isLastUserNull()
+		{
+			return zIsStringNull(_storage, 36);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 48);
+		}
+
+		public boolean isStatusNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), BitemporalOrderItemStatusFinder.businessDate().getInfinityDate());
+			out.writeInt(this.getItemId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetLastUpdateTimeAsLong());
+			out.writeObject(this.getLastUser());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), BitemporalOrderItemStatusFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getStatus());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isStatusNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getItemId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setItemId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getLastUpdateTime()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetLastUpdateTimeAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setLastUpdateTime(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setLastUpdateTimeNull()
+		{
+			this.setLastUpdateTime(null);
+		}
+
+		public String getLastUser()
+		{
+			return zGetString(_storage, 36);
+		}
+
+		public int zGetLastUserAsInt()
+		{
+			return zGetInteger(_storage, 36);
+		}
+
+		public void setLastUser(String value)
+		{
+			zSetString(_storage, value, 36);
+		}
+
+		public void setLastUserNull()
+		{
+			this.setLastUser(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 48);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 48);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 48);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getStatus()
+		{
+			return zGetInteger(_storage, 56);
+		}
+
+		public void setStatus(int value)
+		{
+			zSetInteger(_storage, value, 56, 4, 0);
+		}
+
+		public void setStatusNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(BitemporalOrderItemStatusDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.itemId = this.getItemId();
+			copy.lastUpdateTime = this.getLastUpdateTime();
+			copy.lastUser = this.getLastUser();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.status = this.getStatus();
+			if (isStatusNull())
+			{
+				copy.setStatusNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetString(_storage, (String)in.readObject(), 36);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetInteger(_storage, in.readInt(), 56, 4, 0, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof BitemporalOrderItemStatusDataOffHeap)
+			{
+				final BitemporalOrderItemStatusDataOffHeap otherData = (BitemporalOrderItemStatusDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final BitemporalOrderItemStatusData otherData = (BitemporalOrderItemStatusData) other;
+			if (getItemId() != otherData.getItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), BitemporalOrderItemStatusFinder.businessDate().getInfinityDate());
+			out.writeInt(this.getItemId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), BitemporalOrderItemStatusFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getOrderItem()
+		{
+			return null;
+		}
+
+		public void setOrderItem(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final BitemporalOrderItemStatusData bitemporalOrderItemStatusData = (BitemporalOrderItemStatusData) newData;
+			this.setBusinessDateFrom(bitemporalOrderItemStatusData.getBusinessDateFrom());
+			this.setBusinessDateTo(bitemporalOrderItemStatusData.getBusinessDateTo());
+			this.setLastUpdateTime(bitemporalOrderItemStatusData.getLastUpdateTime());
+			this.setLastUser(bitemporalOrderItemStatusData.getLastUser());
+			this.setProcessingDateFrom(bitemporalOrderItemStatusData.getProcessingDateFrom());
+			this.setProcessingDateTo(bitemporalOrderItemStatusData.getProcessingDateTo());
+			this.setStatus(bitemporalOrderItemStatusData.getStatus());
+			if (bitemporalOrderItemStatusData.isStatusNull()) this.setStatusNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final BitemporalOrderItemStatusData other = (BitemporalOrderItemStatusData) newData;
+			if (!isLastUpdateTimeNull() ? !getLastUpdateTime().equals(other.getLastUpdateTime()) : !other.isLastUpdateTimeNull())
+			{
+				return true;
+			}
+
+			if (!isLastUserNull() ? !getLastUser().equals(other.getLastUser()) : !other.isLastUserNull())
+			{
+				return true;
+			}
+
+			if ( isStatusNull() != other.isStatusNull() || getStatus() != other.getStatus())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			BitemporalOrderItemStatusDataOnHeap copy = new BitemporalOrderItemStatusDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			BitemporalOrderItemStatusDataOnHeap copy = new BitemporalOrderItemStatusDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "itemId: "+(""+getItemId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			BitemporalOrderItemStatusData otherData = (BitemporalOrderItemStatusData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			BitemporalOrderItemStatusData otherData = (BitemporalOrderItemStatusData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemStatusData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return BitemporalOrderItemStatusFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return BitemporalOrderItemStatusFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemStatusData";
+		}
+	}
+}
@@ -0,0 +1,857 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalOrderItemStatusFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalOrderItemStatus";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemStatus";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderItemStatus");
+	private static final BitemporalOrderItemStatusSingleFinder<BitemporalOrderItemStatus, Object, BitemporalOrderItemStatus> finder = new BitemporalOrderItemStatusSingleFinder<BitemporalOrderItemStatus, Object, BitemporalOrderItemStatus>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalOrderItemStatusFinder.BitemporalOrderItemStatusRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("itemId");
+		finderMethodMap.addNormalAttributeName("status");
+		finderMethodMap.addNormalAttributeName("lastUser");
+		finderMethodMap.addNormalAttributeName("lastUpdateTime");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("orderItem");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalOrderItemStatus findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalOrderItemStatus findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalOrderItemStatusList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderItemStatusList) finder.findMany(operation);
+	}
+
+	public static BitemporalOrderItemStatusList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderItemStatusList) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalOrderItemStatus findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalOrderItemStatus) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalOrderItemStatus findByPrimaryKey(int itemId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(itemId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderItemStatusData _castedTargetData = (BitemporalOrderItemStatusData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getItemId())
+			{
+				return BitemporalOrderItemStatusFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderItemStatusFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BitemporalOrderItemStatus zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalOrderItemStatus) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalOrderItemStatusRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalOrderItemStatus, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> itemId;
+		private IntegerAttribute<ParentOwnerType> status;
+		private StringAttribute<ParentOwnerType> lastUser;
+		private TimestampAttribute<ParentOwnerType> lastUpdateTime;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private BitemporalOrderItemStatusOrderItemFinderSubclass<ParentOwnerType> orderItem;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalOrderItemStatusRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalOrderItemStatusRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemStatusFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalOrderItemStatusFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalOrderItemStatusFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalOrderItemStatusFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.itemId();
+			attributes[1] = this.status();
+			attributes[2] = this.lastUser();
+			attributes[3] = this.lastUpdateTime();
+			attributes[4] = this.processingDateFrom();
+			attributes[5] = this.processingDateTo();
+			attributes[6] = this.businessDateFrom();
+			attributes[7] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.orderItem());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalOrderItemStatus findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderItemStatusFinder.findOne(operation, false);
+		}
+
+		public BitemporalOrderItemStatus findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderItemStatusFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalOrderItemStatus> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalOrderItemStatusList((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalOrderItemStatus> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalOrderItemStatusList result = (BitemporalOrderItemStatusList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalOrderItemStatus> constructEmptyList()
+		{
+			return new BitemporalOrderItemStatusList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1133307042;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> itemId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.itemId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ITEM_ID","","itemId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderItemStatusFinder.itemId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("orderItem");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "BitemporalOrderItem", "orderItemStatus");
+				this.itemId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> status()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.status;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("\"STATUS\"","","status",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,56,4,0,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderItemStatusFinder.status(), this.mapper, this.zGetValueSelector());
+				this.status = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> lastUser()
+		{
+			StringAttribute<ParentOwnerType> result = this.lastUser;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LAST_USER","","lastUser",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,36,-1,-1,20,true, false) :
+					new MappedStringAttribute(BitemporalOrderItemStatusFinder.lastUser(), this.mapper, this.zGetValueSelector());
+				this.lastUser = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> lastUpdateTime()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.lastUpdateTime;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("LAST_UPDATE_TIME","","lastUpdateTime",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemStatusFinder.lastUpdateTime(), this.mapper, this.zGetValueSelector());
+				this.lastUpdateTime = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderItemStatusFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemStatusFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderItemStatusFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemStatusFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderItemStatusFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemStatusFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderItemStatusFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemStatusFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalOrderItemStatusFinder.businessDateInfinity,false,false,BitemporalOrderItemStatusFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BitemporalOrderItemStatusFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalOrderItemStatusFinder.processingDateInfinity,false,false,BitemporalOrderItemStatusFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BitemporalOrderItemStatusFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemFinder.BitemporalOrderItemSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItem, BitemporalOrderItemStatus> orderItem()
+		{
+			BitemporalOrderItemStatusOrderItemFinderSubclass<ParentOwnerType> result = this.orderItem;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderItemFinder.zGetBitemporalOrderItemOrderItemStatusMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderItemStatusOrderItemFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderItem = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalOrderItemStatusFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalOrderItemStatusFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalOrderItemStatusCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalOrderItemStatusRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderItemStatusList, OwnerType>
+	{
+		public BitemporalOrderItemStatusCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalOrderItemStatusCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalOrderItemStatusCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderItemStatusCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalOrderItemStatusSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderItemStatusRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderItemStatusList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalOrderItemStatusSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalOrderItemStatusSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalOrderItemStatus other)
+		{
+			return this.itemId().eq(other.getItemId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrderItemStatus findByPrimaryKey(int itemId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrderItemStatus _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(itemId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderItemStatus) _related;
+			if (_related == null)
+			{
+				_op = this.itemId().eq(itemId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalOrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderItemStatusSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderItemStatusSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_STATUS.ORDER_ITEM_ID **/
+	public static IntegerAttribute<BitemporalOrderItemStatus> itemId()
+	{
+		return finder.itemId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_STATUS."STATUS" **/
+	public static IntegerAttribute<BitemporalOrderItemStatus> status()
+	{
+		return finder.status();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_STATUS.LAST_USER **/
+	public static StringAttribute<BitemporalOrderItemStatus> lastUser()
+	{
+		return finder.lastUser();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_STATUS.LAST_UPDATE_TIME **/
+	public static TimestampAttribute<BitemporalOrderItemStatus> lastUpdateTime()
+	{
+		return finder.lastUpdateTime();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_STATUS.IN_Z **/
+	public static TimestampAttribute<BitemporalOrderItemStatus> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_STATUS.OUT_Z **/
+	public static TimestampAttribute<BitemporalOrderItemStatus> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_STATUS.FROM_Z **/
+	public static TimestampAttribute<BitemporalOrderItemStatus> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM_STATUS.THRU_Z **/
+	public static TimestampAttribute<BitemporalOrderItemStatus> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalOrderItemStatus> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalOrderItemStatus> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static BitemporalOrderItemFinder.BitemporalOrderItemSingleFinderForRelatedClasses<BitemporalOrderItemStatus, BitemporalOrderItem, BitemporalOrderItemStatus> orderItem()
+	{
+		return finder.orderItem();
+	}
+
+	public static class BitemporalOrderItemStatusOrderItemFinderSubclass<ParentOwnerType> extends BitemporalOrderItemFinder.BitemporalOrderItemSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItem, BitemporalOrderItemStatus>
+	{
+		public BitemporalOrderItemStatusOrderItemFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderItem";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderItemFinder.id(),
+				BitemporalOrderItemFinder.businessDate(),
+				BitemporalOrderItemFinder.processingDate()).withExtractors(
+				BitemporalOrderItemStatusFinder.itemId(),
+				BitemporalOrderItemStatusFinder.businessDate(),
+				BitemporalOrderItemStatusFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemStatusOrderItemFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderItem plainValueOf(BitemporalOrderItemStatus _obj)
+		{
+			return _obj.getOrderItem();
+		}
+
+		protected BitemporalOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderItemStatusList)_obj).getOrderItems();
+		}
+	}
+
+	public static Operation eq(BitemporalOrderItemStatus other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(itemId());
+	}
+
+	public static BitemporalOrderItemStatusSingleFinder<BitemporalOrderItemStatus, Object, BitemporalOrderItemStatus> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			itemId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			itemId()
+			, itemId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderItemStatus");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,200 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderItemStatusListAbstract extends DelegatingList<BitemporalOrderItemStatus> implements MithraDatedTransactionalList<BitemporalOrderItemStatus>
+{
+	public BitemporalOrderItemStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderItemStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderItemStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderItemStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderItemStatus[] elements()
+	{
+		BitemporalOrderItemStatus[] result = new BitemporalOrderItemStatus[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderItemStatusList intersection(BitemporalOrderItemStatusList another)
+	{
+		return (BitemporalOrderItemStatusList)super.intersection(another);
+	}
+
+	public BitemporalOrderItemStatus getBitemporalOrderItemStatusAt(int index)
+	{
+		return (BitemporalOrderItemStatus)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.id = this.itemId</pre>
+	* @see BitemporalOrderItem#getOrderItemStatus() reverse relationship BitemporalOrderItem.getOrderItemStatus()
+	* @return The order item
+	*/
+	public BitemporalOrderItemList getOrderItems()
+	{
+		return (BitemporalOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderItemStatusFinder.orderItem());
+	}
+
+	public void zSetParentContainerorderItem(BitemporalOrderItemAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			BitemporalOrderItemStatus item = this.getBitemporalOrderItemStatusAt(i);
+			item.zSetParentContainerorderItem(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderItemStatusFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderItemStatusList getNonPersistentCopy()
+	{
+		BitemporalOrderItemStatusList result = new BitemporalOrderItemStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderItemStatusList asAdhoc()
+	{
+		return (BitemporalOrderItemStatusList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderItemStatus> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderItemStatusList merge(MithraTransactionalList<BitemporalOrderItemStatus> incoming, TopLevelMergeOptions<BitemporalOrderItemStatus> mergeOptions)
+	{
+		return (BitemporalOrderItemStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderItemStatusList getDetachedCopy()
+	{
+		BitemporalOrderItemStatusList result = new BitemporalOrderItemStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setItemId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemStatusFinder.itemId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemStatusFinder.status(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(BitemporalOrderItemStatusFinder.lastUser(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemStatusFinder.businessDateTo(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemStatusFinder.status());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
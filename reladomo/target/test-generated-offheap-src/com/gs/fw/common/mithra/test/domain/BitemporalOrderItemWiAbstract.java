@@ -0,0 +1,66 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface BitemporalOrderItemWiAbstract
+{
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp newValue);
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp newValue);
+	boolean isBusinessDateToNull();
+	double getDiscountPrice();
+	void setDiscountPrice(double newValue);
+	boolean isDiscountPriceNull();
+	void setDiscountPriceUntil(double newValue, Timestamp exclusiveUntil);
+	void incrementDiscountPrice(double increment);
+	void incrementDiscountPriceUntil(double increment, Timestamp exclusiveUntil);
+	int getId();
+	void setId(int newValue);
+	boolean isIdNull();
+	void setIdUntil(int newValue, Timestamp exclusiveUntil);
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	void setOrderIdUntil(int newValue, Timestamp exclusiveUntil);
+	double getOriginalPrice();
+	void setOriginalPrice(double newValue);
+	boolean isOriginalPriceNull();
+	void setOriginalPriceUntil(double newValue, Timestamp exclusiveUntil);
+	void incrementOriginalPrice(double increment);
+	void incrementOriginalPriceUntil(double increment, Timestamp exclusiveUntil);
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp newValue);
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp newValue);
+	boolean isProcessingDateToNull();
+	int getProductId();
+	void setProductId(int newValue);
+	boolean isProductIdNull();
+	void setProductIdUntil(int newValue, Timestamp exclusiveUntil);
+	double getQuantity();
+	void setQuantity(double newValue);
+	boolean isQuantityNull();
+	void setQuantityUntil(double newValue, Timestamp exclusiveUntil);
+	void incrementQuantity(double increment);
+	void incrementQuantityUntil(double increment, Timestamp exclusiveUntil);
+	String getState();
+	void setState(String newValue);
+	boolean isStateNull();
+	void setStateUntil(String newValue, Timestamp exclusiveUntil);
+	void setOrderIdNull();
+	void setProductIdNull();
+	void setQuantityNull();
+	void setOriginalPriceNull();
+	void setDiscountPriceNull();
+	public BitemporalOrderWi getOrder();
+	void setOrder(BitemporalOrderWi order);
+	Timestamp getBusinessDate();
+	Timestamp getProcessingDate();
+}
@@ -0,0 +1,1011 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalOrderItemWiImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalOrderItemWiFinder.businessDate()
+	,
+		BitemporalOrderItemWiFinder.processingDate()
+	, BitemporalOrderItemWiFinder.zGetDoubleAttributes(),BitemporalOrderItemWiFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalOrderItemWi.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderWiFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderItemWiImpl _castedSrcObject = (BitemporalOrderItemWiImpl) _srcObject;
+			BitemporalOrderItemWiData _castedSrcData = (BitemporalOrderItemWiData) _srcData;
+			BitemporalOrderWiData _castedTargetData = (BitemporalOrderWiData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderItemWiData _castedSrcData = (BitemporalOrderItemWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public BitemporalOrderItemWiImplAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalOrderItemWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalOrderItemWiFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalOrderItemWiImplAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalOrderItemWiData zSynchronizedGetData()
+	{
+		return (BitemporalOrderItemWiData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalOrderItemWiFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalOrderItemWiFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public BitemporalOrderItemWiImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemWiImpl original = (BitemporalOrderItemWiImpl) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderItemWiImpl copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalOrderItemWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderItemWiImpl copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderItemWiImpl) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalOrderItemWiFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalOrderItemWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderItemWiImplAbstract result = (BitemporalOrderItemWiImplAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalOrderItemWiImpl ) result;
+	}
+
+	public BitemporalOrderItemWiImpl zFindOriginal()
+	{
+		BitemporalOrderItemWiData data = (BitemporalOrderItemWiData) this.currentData;
+		Operation op;
+		op = BitemporalOrderItemWiFinder.id().eq(data.getId());
+		op = op.and(BitemporalOrderItemWiFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalOrderItemWiFinder.processingDate().eq(this.getProcessingDate()));
+		return (BitemporalOrderItemWiImpl) BitemporalOrderItemWiFinder.findOne(op);
+	}
+
+	public BitemporalOrderItemWiImpl getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderItemWiImplAbstract result = (BitemporalOrderItemWiImplAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalOrderItemWiImpl ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalOrderItemWiImpl copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderItemWiImpl) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalOrderItemWiImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalOrderItemWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalOrderItemWiData data = (BitemporalOrderItemWiData) this.currentData;
+			Operation op = BitemporalOrderItemWiFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalOrderItemWiFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalOrderItemWiFinder.id().eq(data.getId()));
+			return BitemporalOrderItemWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalOrderItemWiData data = (BitemporalOrderItemWiData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalOrderItemWiFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderItemWiData data = (BitemporalOrderItemWiData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return this.zSynchronizedGetData().isDiscountPriceNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return this.zSynchronizedGetData().isOriginalPriceNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemWiFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemWiFinder.businessDateTo(), newValue, false );
+	}
+
+	public double getDiscountPrice()
+	{
+		BitemporalOrderItemWiData data = this.zSynchronizedGetData();
+		if (data.isDiscountPriceNull()) MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemWiFinder.discountPrice(), newValue, false ,true);
+	}
+
+	public void setDiscountPriceUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BitemporalOrderItemWiFinder.discountPrice(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementDiscountPrice(double increment)
+	{
+		zIncrement(increment, BitemporalOrderItemWiFinder.discountPrice(), false);
+	}
+
+	public void incrementDiscountPriceUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalOrderItemWiFinder.discountPrice(), false);
+	}
+
+	public int getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemWiFinder.id(), newValue, true ,false);
+	}
+
+	public void setIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderItemWiFinder.id(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getOrderId()
+	{
+		BitemporalOrderItemWiData data = this.zSynchronizedGetData();
+		if (data.isOrderIdNull()) MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemWiFinder.orderId(), newValue, false ,true);
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderItemWiFinder.orderId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public double getOriginalPrice()
+	{
+		BitemporalOrderItemWiData data = this.zSynchronizedGetData();
+		if (data.isOriginalPriceNull()) MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemWiFinder.originalPrice(), newValue, false ,true);
+	}
+
+	public void setOriginalPriceUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BitemporalOrderItemWiFinder.originalPrice(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementOriginalPrice(double increment)
+	{
+		zIncrement(increment, BitemporalOrderItemWiFinder.originalPrice(), false);
+	}
+
+	public void incrementOriginalPriceUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalOrderItemWiFinder.originalPrice(), false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemWiFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemWiFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		BitemporalOrderItemWiData data = this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemWiFinder.productId(), newValue, true ,true);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderItemWiFinder.productId(), newValue, true , exclusiveUntil,true);
+	}
+
+	public double getQuantity()
+	{
+		BitemporalOrderItemWiData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemWiFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BitemporalOrderItemWiFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, BitemporalOrderItemWiFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BitemporalOrderItemWiFinder.quantity(), false);
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderItemWiFinder.state(), newValue, false );
+	}
+
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderItemWiFinder.state(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BitemporalOrderItemWiFinder.orderId(), false, mustCheckCurrent);
+		zNullify(behavior, data, BitemporalOrderItemWiFinder.productId(), true, mustCheckCurrent);
+		zNullify(behavior, data, BitemporalOrderItemWiFinder.quantity(), false, mustCheckCurrent);
+		zNullify(behavior, data, BitemporalOrderItemWiFinder.originalPrice(), false, mustCheckCurrent);
+		zNullify(behavior, data, BitemporalOrderItemWiFinder.discountPrice(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalOrderItemWiData data2 = (BitemporalOrderItemWiData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalOrderItemWiFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setOrderIdNull()
+	{
+		zNullify(BitemporalOrderItemWiFinder.orderId(), false);
+	}
+
+	public void setOrderIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemWiFinder.orderId(), false, exclusiveUntil);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(BitemporalOrderItemWiFinder.productId(), false);
+	}
+
+	public void setProductIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemWiFinder.productId(), false, exclusiveUntil);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(BitemporalOrderItemWiFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemWiFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zNullify(BitemporalOrderItemWiFinder.originalPrice(), false);
+	}
+
+	public void setOriginalPriceNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemWiFinder.originalPrice(), false, exclusiveUntil);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zNullify(BitemporalOrderItemWiFinder.discountPrice(), false);
+	}
+
+	public void setDiscountPriceNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderItemWiFinder.discountPrice(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalOrderItemWiData _newData = (BitemporalOrderItemWiData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalOrderItemWiData _newData = (BitemporalOrderItemWiData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalOrderItemWiData _newData = (BitemporalOrderItemWiData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderWi.orderId</pre>
+	* @see BitemporalOrderWi#getItems() reverse relationship BitemporalOrderWi.getItems()
+	* @return The order
+	*/
+	public BitemporalOrderWi getOrder()
+	{
+		BitemporalOrderWiImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderItemWiData _data = (BitemporalOrderItemWiData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = BitemporalOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemWiFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BitemporalOrderWiImpl) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderItemWiFinder.order().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderWiFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderItemWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderWiImpl) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderItemWiFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(BitemporalOrderWi order)
+	{
+		BitemporalOrderWiImpl _order = (BitemporalOrderWiImpl) order;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemWiData _data = (BitemporalOrderItemWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrder();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((BitemporalOrderWiImpl)_prev).getItems()).zMarkMoved( (BitemporalOrderItemWiImpl) this);
+			}
+
+			_data.setOrder(_order);
+			_order.getItems().add((BitemporalOrderItemWiImpl) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_order == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerorder(BitemporalOrderWiImplAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderItemWiData _data = (BitemporalOrderItemWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalOrderItemWiFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalOrderItemWiData.BitemporalOrderItemWiDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalOrderItemWiData data = (BitemporalOrderItemWiData) BitemporalOrderItemWiFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalOrderItemWi has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalOrderItemWiData( BitemporalOrderItemWiData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalOrderItemWiData( BitemporalOrderItemWiData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalOrderItemWiFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalOrderItemWiFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderItemWiImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalOrderItemWiImplAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderItemWiImplAbstract from = (BitemporalOrderItemWiImplAbstract) f;
+		BitemporalOrderItemWiData newData = from.zSynchronizedGetData();
+		if (from.isDiscountPriceNull())
+		{
+			this.setDiscountPriceNull();
+		}
+		else
+		{
+			this.setDiscountPrice(newData.getDiscountPrice());
+		}
+
+		if (from.isOrderIdNull())
+		{
+			this.setOrderIdNull();
+		}
+		else
+		{
+			this.setOrderId(newData.getOrderId());
+		}
+
+		if (from.isOriginalPriceNull())
+		{
+			this.setOriginalPriceNull();
+		}
+		else
+		{
+			this.setOriginalPrice(newData.getOriginalPrice());
+		}
+
+		if (from.isProductIdNull())
+		{
+			this.setProductIdNull();
+		}
+		else
+		{
+			this.setProductId(newData.getProductId());
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+
+		this.setState(newData.getState());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderItemWiData _newData = (BitemporalOrderItemWiData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderItemWiData _newData = (BitemporalOrderItemWiData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalOrderItemWiImplAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderItemWiImplAbstract from = (BitemporalOrderItemWiImplAbstract)f;
+		BitemporalOrderItemWiData newData = from.zSynchronizedGetData();
+		if (from.isDiscountPriceNull())
+		{
+			this.setDiscountPriceNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setDiscountPriceUntil(newData.getDiscountPrice(), exclusiveUntil);
+		}
+
+		if (from.isOrderIdNull())
+		{
+			this.setOrderIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setOrderIdUntil(newData.getOrderId(), exclusiveUntil);
+		}
+
+		if (from.isOriginalPriceNull())
+		{
+			this.setOriginalPriceNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setOriginalPriceUntil(newData.getOriginalPrice(), exclusiveUntil);
+		}
+
+		if (from.isProductIdNull())
+		{
+			this.setProductIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setProductIdUntil(newData.getProductId(), exclusiveUntil);
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+
+		this.setStateUntil(newData.getState(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalOrderItemWiData newData = (BitemporalOrderItemWiData) d;
+		BitemporalOrderItemWiData data = (BitemporalOrderItemWiData) nd;
+		if (BitemporalOrderItemWiFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemWiFinder.discountPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemWiFinder.id(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemWiFinder.orderId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemWiFinder.originalPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemWiFinder.productId(), true);
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemWiFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderItemWiFinder.state(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemWiFinder.discountPrice(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemWiFinder.id(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemWiFinder.orderId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemWiFinder.originalPrice(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderItemWiFinder.productId(), true, until);
+		changed |= zUpdateDouble(behavior, data, newData, BitemporalOrderItemWiFinder.quantity(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderItemWiFinder.state(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderItemWiData data = ((BitemporalOrderItemWiData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderItemWiData data = ((BitemporalOrderItemWiData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderItemWiData data = ((BitemporalOrderItemWiData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderItemWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderItemWiFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderItemWiData localData = (BitemporalOrderItemWiData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
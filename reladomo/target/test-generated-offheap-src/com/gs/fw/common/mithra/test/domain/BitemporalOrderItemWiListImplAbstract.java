@@ -0,0 +1,235 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderItemWiListImplAbstract extends DelegatingList<BitemporalOrderItemWi> implements MithraDatedTransactionalList<BitemporalOrderItemWi>
+{
+	public BitemporalOrderItemWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderItemWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderItemWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderItemWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderItemWi[] elements()
+	{
+		BitemporalOrderItemWi[] result = new BitemporalOrderItemWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderItemWiListImpl intersection(BitemporalOrderItemWiListImpl another)
+	{
+		return (BitemporalOrderItemWiListImpl)super.intersection(another);
+	}
+
+	public BitemporalOrderItemWiImpl getBitemporalOrderItemWiAt(int index)
+	{
+		return (BitemporalOrderItemWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderWi.orderId</pre>
+	* @see BitemporalOrderWi#getItems() reverse relationship BitemporalOrderWi.getItems()
+	* @return The order
+	*/
+	public BitemporalOrderWiList getOrders()
+	{
+		return (BitemporalOrderWiList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderItemWiFinder.order());
+	}
+
+	public void zSetParentContainerorder(BitemporalOrderWiImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			BitemporalOrderItemWiImpl item = this.getBitemporalOrderItemWiAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderItemWiFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderItemWiListImpl getNonPersistentCopy()
+	{
+		BitemporalOrderItemWiListImpl result = new BitemporalOrderItemWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderItemWiListImpl asAdhoc()
+	{
+		return (BitemporalOrderItemWiListImpl) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderItemWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderItemWiListImpl merge(MithraTransactionalList<BitemporalOrderItemWi> incoming, TopLevelMergeOptions<BitemporalOrderItemWi> mergeOptions)
+	{
+		return (BitemporalOrderItemWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderItemWiListImpl getDetachedCopy()
+	{
+		BitemporalOrderItemWiListImpl result = new BitemporalOrderItemWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemWiFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemWiFinder.orderId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemWiFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemWiFinder.quantity(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemWiFinder.originalPrice(), newValue);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemWiFinder.discountPrice(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(BitemporalOrderItemWiFinder.state(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemWiFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemWiFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemWiFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemWiFinder.businessDateTo(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemWiFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemWiFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemWiFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemWiFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemWiFinder.discountPrice());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,358 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderListAbstract extends DelegatingList<BitemporalOrder> implements MithraDatedTransactionalList<BitemporalOrder>
+{
+	public BitemporalOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrder[] elements()
+	{
+		BitemporalOrder[] result = new BitemporalOrder[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderList intersection(BitemporalOrderList another)
+	{
+		return (BitemporalOrderList)super.intersection(another);
+	}
+
+	public BitemporalOrder getBitemporalOrderAt(int index)
+	{
+		return (BitemporalOrder)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId</pre>
+	* @see BitemporalOrderItem#getOrder() reverse relationship BitemporalOrderItem.getOrder()
+	* @return items
+	*/
+	public BitemporalOrderItemList getItems()
+	{
+		return (BitemporalOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatus#getOrder() reverse relationship BitemporalOrderStatus.getOrder()
+	* @return The order status
+	*/
+	public BitemporalOrderStatusList getOrderStatus()
+	{
+		return (BitemporalOrderStatusList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.orderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UnconfiguredBitemporalOrderStatus.orderId = this.orderId</pre>
+	* @return The unconfigured order status
+	*/
+	public UnconfiguredBitemporalOrderStatusList getUnconfiguredOrderStatus()
+	{
+		return (UnconfiguredBitemporalOrderStatusList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.unconfiguredOrderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId and AuditedOrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public BitemporalOrderItemList getItemForProducts(int productId)
+	{
+		return (BitemporalOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.itemForProduct(productId));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId and AuditedOrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public BitemporalOrderItemList getItemForProductSets(IntHashSet productIds)
+	{
+		return (BitemporalOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.itemForProductSet(productIds));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UnconfiguredBitemporalOrderToOrderStatus.statusId = BitemporalOrderStatus.orderId and
+	UnconfiguredBitemporalOrderToOrderStatus.orderId = this.orderId</pre>
+	* @return The order status via unconfigured join
+	*/
+	public BitemporalOrderStatusList getOrderStatusViaUnconfiguredJoins()
+	{
+		return (BitemporalOrderStatusList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.orderStatusViaUnconfiguredJoin());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId and
+	UnconfiguredBitemporalOrderStatusFilter.lastUser = BitemporalOrderStatus.lastUser and
+	UnconfiguredBitemporalOrderStatusFilter.isAwesome = true</pre>
+	* @return The order status with unconfigured filter
+	*/
+	public BitemporalOrderStatusList getOrderStatusWithUnconfiguredFilters()
+	{
+		return (BitemporalOrderStatusList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.orderStatusWithUnconfiguredFilter());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderToOrderStatus.statusId = BitemporalOrderStatus.orderId and
+	BitemporalOrderToOrderStatus.orderId = this.orderId</pre>
+	* @return The order status via join
+	*/
+	public BitemporalOrderStatusList getOrderStatusViaJoins()
+	{
+		return (BitemporalOrderStatusList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.orderStatusViaJoin());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderToOrderStatus.statusId = BitemporalOrderStatus.orderId and
+	BitemporalOrderToOrderStatus.orderId = this.orderId and
+	BitemporalOrderStatus.orderId = 130</pre>
+	* @return The order status via join with filter
+	*/
+	public BitemporalOrderStatusList getOrderStatusViaJoinWithFilters()
+	{
+		return (BitemporalOrderStatusList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.orderStatusViaJoinWithFilter());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId and
+	BitemporalOrderStatusFilter.lastUser = BitemporalOrderStatus.lastUser and
+	BitemporalOrderStatusFilter.isAwesome = true</pre>
+	* @return The order status with filter
+	*/
+	public BitemporalOrderStatusList getOrderStatusWithFilters()
+	{
+		return (BitemporalOrderStatusList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.orderStatusWithFilter());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.businessDate = this.businessDate and
+	BitemporalOrderStatus.processingDate = this.processingDate and
+	BitemporalOrderStatus.orderId = 140</pre>
+	* @return The order status with fixed order id
+	*/
+	public BitemporalOrderStatusList getOrderStatusWithFixedOrderIds()
+	{
+		return (BitemporalOrderStatusList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.orderStatusWithFixedOrderId());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId and BitemporalOrderItem.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public BitemporalOrderItemList getExpensiveItems(double price)
+	{
+		return (BitemporalOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.expensiveItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId and BitemporalOrderItem.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public BitemporalOrderItemList getCheapItems(double price)
+	{
+		return (BitemporalOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.cheapItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Sale.saleId = this.orderId</pre>
+	* @return The sale
+	*/
+	public SaleList getSales()
+	{
+		return (SaleList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.sale());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Sale.saleId = this.userId</pre>
+	* @return The sale with user id
+	*/
+	public SaleList getSaleWithUserIds()
+	{
+		return (SaleList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderFinder.saleWithUserId());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderList getNonPersistentCopy()
+	{
+		BitemporalOrderList result = new BitemporalOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderList asAdhoc()
+	{
+		return (BitemporalOrderList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrder> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderList merge(MithraTransactionalList<BitemporalOrder> incoming, TopLevelMergeOptions<BitemporalOrder> mergeOptions)
+	{
+		return (BitemporalOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderList getDetachedCopy()
+	{
+		BitemporalOrderList result = new BitemporalOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BitemporalOrderFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(BitemporalOrderFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(BitemporalOrderFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(BitemporalOrderFinder.trackingId(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.processingDateTo(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(BitemporalOrderFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1416 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalOrderNullAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalOrderNullFinder.businessDate()
+	,
+		BitemporalOrderNullFinder.processingDate()
+	, BitemporalOrderNullFinder.zGetDoubleAttributes(),BitemporalOrderNullFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalOrderNull.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderStatusNullFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderStatusNullFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderNull _castedSrcObject = (BitemporalOrderNull) _srcObject;
+			BitemporalOrderNullData _castedSrcData = (BitemporalOrderNullData) _srcData;
+			BitemporalOrderStatusNullData _castedTargetData = (BitemporalOrderStatusNullData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderNullData _castedSrcData = (BitemporalOrderNullData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForRead(this);
+		BitemporalOrderItemNullList items =
+		(BitemporalOrderItemNullList) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public boolean isOrderStatusModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderStatusNull _existing = this.getOriginalPersistentObject().getOrderStatus();
+			return _existing != null;
+		}
+
+		BitemporalOrderStatusNull orderStatus =
+		(BitemporalOrderStatusNull) _data.getOrderStatus();
+		if( orderStatus != null)
+		{
+			return orderStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public BitemporalOrderNullAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalOrderNullFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalOrderNullFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalOrderNullAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public BitemporalOrderNullData zSynchronizedGetData()
+	{
+		return (BitemporalOrderNullData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalOrderNullFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalOrderNullFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForWrite(this);
+		BitemporalOrderItemNullList items =
+		(BitemporalOrderItemNullList ) _data.getItems();
+		BitemporalOrderStatusNull orderStatus =
+		(BitemporalOrderStatusNull ) _data.getOrderStatus();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		BitemporalOrderNullFinder.BitemporalOrderNullRelatedFinder parentFinder = (BitemporalOrderNullFinder.BitemporalOrderNullRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderNullData _newData = (BitemporalOrderNullData) _behavior.getCurrentDataForWrite(this);
+		{
+			BitemporalOrderItemNullList items =
+			(BitemporalOrderItemNullList) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			BitemporalOrderStatusNull orderStatus =
+			(BitemporalOrderStatusNull) _newData.getOrderStatus();
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus != null, navigationStats);
+			if (orderStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public BitemporalOrderNull zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForWrite(this);
+		BitemporalOrderItemNullList items =
+		(BitemporalOrderItemNullList ) _data.getItems();
+		BitemporalOrderStatusNull orderStatus =
+		(BitemporalOrderStatusNull ) _data.getOrderStatus();
+		BitemporalOrderNull original = (BitemporalOrderNull) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getItems().cascadeInsertAllUntil(exclusiveUntil);
+		{
+			BitemporalOrderStatusNull related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeInsertUntil(exclusiveUntil);
+		}
+
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderNull copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalOrderNull) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderNull copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderNull) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			this.processingDate == null || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalOrderNull getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderNullAbstract result = (BitemporalOrderNullAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalOrderNull ) result;
+	}
+
+	public BitemporalOrderNull zFindOriginal()
+	{
+		BitemporalOrderNullData data = (BitemporalOrderNullData) this.currentData;
+		Operation op;
+		op = BitemporalOrderNullFinder.orderId().eq(data.getOrderId());
+		op = op.and(BitemporalOrderNullFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalOrderNullFinder.processingDate().eq(this.getProcessingDate()));
+		return BitemporalOrderNullFinder.findOne(op);
+	}
+
+	public BitemporalOrderNull getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderNullAbstract result = (BitemporalOrderNullAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalOrderNull ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		if(isOrderStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalOrderNull copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderNull) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalOrderNull copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalOrderNull) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalOrderNullData data = (BitemporalOrderNullData) this.currentData;
+			Operation op = BitemporalOrderNullFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalOrderNullFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalOrderNullFinder.orderId().eq(data.getOrderId()));
+			return BitemporalOrderNullFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalOrderNullData data = (BitemporalOrderNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalOrderNullFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderNullData data = (BitemporalOrderNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isDescriptionNull();
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.zSynchronizedGetData().isOrderDateNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.zSynchronizedGetData().isTrackingIdNull();
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zSynchronizedGetData().isUserIdNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getDescription()
+	{
+		return this.zSynchronizedGetData().getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(BitemporalOrderNullFinder.description(), newValue, false );
+	}
+
+	public void setDescriptionUsingInPlaceUpdate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		BitemporalOrderNullData data;
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		data = (BitemporalOrderNullData) behavior.getCurrentDataForRead(this);
+		String current = data.getDescription();
+		if (current == null)
+		{
+			if (newValue == null) return;
+		}
+		else
+		{
+			if (current.equals(newValue)) return;
+		}
+
+		AttributeUpdateWrapper updateWrapper =
+		new StringUpdateWrapper(
+			BitemporalOrderNullFinder.description(),
+			behavior.getCurrentDataForWrite(this),
+			newValue);
+		behavior.inPlaceUpdate(this, updateWrapper, false);
+	}
+
+	public void setDescriptionUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(BitemporalOrderNullFinder.description(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.zSynchronizedGetData().getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.orderDate(), newValue, false );
+	}
+
+	public void setOrderDateUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.orderDate(), newValue, false , exclusiveUntil);
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(BitemporalOrderNullFinder.orderId(), newValue, true ,false);
+		if (d == null) return;
+		BitemporalOrderNullData data = (BitemporalOrderNullData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			BitemporalOrderItemNullList items =
+			(BitemporalOrderItemNullList) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+
+			BitemporalOrderStatusNull orderStatus =
+			(BitemporalOrderStatusNull) data.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.setOrderId(newValue);
+			}
+		}
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetInteger(BitemporalOrderNullFinder.orderId(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		BitemporalOrderNullData data = (BitemporalOrderNullData) d;
+		BitemporalOrderItemNullList items =
+		(BitemporalOrderItemNullList) data.getItems();
+		if (items != null)
+		{
+			items.setOrderId(newValue);
+		}
+
+		BitemporalOrderStatusNull orderStatus =
+		(BitemporalOrderStatusNull) data.getOrderStatus();
+		if (orderStatus != null)
+		{
+			orderStatus.setOrderId(newValue);
+		}
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderNullFinder.state(), newValue, false );
+	}
+
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderNullFinder.state(), newValue, false , exclusiveUntil);
+	}
+
+	public String getTrackingId()
+	{
+		return this.zSynchronizedGetData().getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(BitemporalOrderNullFinder.trackingId(), newValue, false );
+	}
+
+	public void setTrackingIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(BitemporalOrderNullFinder.trackingId(), newValue, false , exclusiveUntil);
+	}
+
+	public int getUserId()
+	{
+		BitemporalOrderNullData data = this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BitemporalOrderNullFinder.userId(), newValue, false ,true);
+	}
+
+	public void setUserIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderNullFinder.userId(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BitemporalOrderNullFinder.userId(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalOrderNullData data2 = (BitemporalOrderNullData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalOrderNullFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(BitemporalOrderNullFinder.userId(), false);
+	}
+
+	public void setUserIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderNullFinder.userId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		behavior.cascadeUpdateInPlaceBeforeTerminate(this);
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate(MithraDataObject _data)
+	{
+		BitemporalOrderNullData _newData = (BitemporalOrderNullData) _data;
+		this.setDescriptionUsingInPlaceUpdate(_newData.getDescription());
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalOrderNullData _newData = (BitemporalOrderNullData) _data;
+		{
+			BitemporalOrderItemNullList items =
+			(BitemporalOrderItemNullList) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderStatusNull orderStatus =
+			this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			BitemporalOrderStatusNull orderStatus =
+			(BitemporalOrderStatusNull) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				BitemporalOrderStatusNull _existing =
+				this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalOrderNullData _newData = (BitemporalOrderNullData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BitemporalOrderItemNullList)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((BitemporalOrderStatusNull)_newData.getOrderStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalOrderNullData _newData = (BitemporalOrderNullData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BitemporalOrderItemNullList)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((BitemporalOrderStatusNull)_newData.getOrderStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId</pre>
+	* @see BitemporalOrderItemNull#getOrder() reverse relationship BitemporalOrderItemNull.getOrder()
+	* @return items
+	*/
+	public BitemporalOrderItemNullList getItems()
+	{
+		BitemporalOrderItemNullList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderNullFinder.items().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (BitemporalOrderItemNullList) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderNullFinder.items().zGetRelationshipMultiExtractor(), this);
+					_result = new BitemporalOrderItemNullList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderNullData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderItemNullList) _data.getItems();
+			if (_result == null)
+			{
+				_result = new BitemporalOrderItemNullList();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderNullData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalOrderItemNullList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(BitemporalOrderItemNullList items)
+	{
+		BitemporalOrderItemNullList _items = (BitemporalOrderItemNullList) items;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(new RelationshipMultiEqualityOperation(BitemporalOrderNullFinder.items().zGetRelationshipMultiExtractor(), this),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			BitemporalOrderItemNullList itemsToDelete = new BitemporalOrderItemNullList();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				BitemporalOrderItemNull item = _items.getBitemporalOrderItemNullAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatusNull.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatusNull#getOrder() reverse relationship BitemporalOrderStatusNull.getOrder()
+	* @return The order status
+	*/
+	public BitemporalOrderStatusNull getOrderStatus()
+	{
+		BitemporalOrderStatusNull _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderStatusNullFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderStatusNull) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderNullFinder.orderStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BitemporalOrderStatusNull) _data.getOrderStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderNullFinder.orderStatus().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderStatusNullFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderNullData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatusNull) _data.getOrderStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusNullFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(BitemporalOrderStatusNull orderStatus)
+	{
+		BitemporalOrderStatusNull _orderStatus = (BitemporalOrderStatusNull) orderStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus();
+			_data.setOrderStatus(_orderStatus);
+			if (_orderStatus != null)
+			{
+				_orderStatus.setOrderId(_data.getOrderId());
+				_orderStatus.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			BitemporalOrderStatusNull _existing = this.getOrderStatus();
+			if (_orderStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_orderStatus != null)
+				{
+					_orderStatus.setOrderId(_data.getOrderId());
+					_orderStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId and AuditedOrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public BitemporalOrderItemNull getItemForProduct(int productId)
+	{
+		BitemporalOrderItemNull _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalOrderItemNullFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderItemNullFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderItemNullFinder.processingDate().eq(this.getProcessingDate()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderItemNullFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId and AuditedOrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public BitemporalOrderItemNull getItemForProductSet(IntHashSet productIds)
+	{
+		BitemporalOrderItemNull _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalOrderItemNullFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderItemNullFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderItemNullFinder.processingDate().eq(this.getProcessingDate()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderItemNullFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId and BitemporalOrderItemNull.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public BitemporalOrderItemNullList getExpensiveItems(double price)
+	{
+		BitemporalOrderItemNullList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalOrderItemNullFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderItemNullFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderItemNullFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalOrderItemNullFinder.originalPrice().greaterThanEquals(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalOrderItemNullList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId and BitemporalOrderItemNull.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public List getCheapItems(double price)
+	{
+		BitemporalOrderItemNullList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderNullData _data = (BitemporalOrderNullData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalOrderItemNullFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderItemNullFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderItemNullFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalOrderItemNullFinder.originalPrice().lessThan(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalOrderItemNullList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalOrderNullFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalOrderNullData.BitemporalOrderNullDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalOrderNullData data = (BitemporalOrderNullData) BitemporalOrderNullFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalOrderNull has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalOrderNullData( BitemporalOrderNullData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalOrderNullData( BitemporalOrderNullData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalOrderNullFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalOrderNullFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderNull getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalOrderNullAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderNullAbstract from = (BitemporalOrderNullAbstract) f;
+		BitemporalOrderNullData newData = from.zSynchronizedGetData();
+		this.setDescription(newData.getDescription());
+		this.setOrderDate(newData.getOrderDate());
+		this.setState(newData.getState());
+		this.setTrackingId(newData.getTrackingId());
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNull();
+		}
+		else
+		{
+			this.setUserId(newData.getUserId());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderNullData _newData = (BitemporalOrderNullData) _data;
+		BitemporalOrderItemNullList items =
+		(BitemporalOrderItemNullList) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderStatusNull orderStatus =
+			this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			BitemporalOrderStatusNull orderStatus =
+			(BitemporalOrderStatusNull) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				BitemporalOrderStatusNull _existing =
+				this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+				}
+				else
+				{
+					_existing.copyNonPrimaryKeyAttributesUntilFrom( orderStatus, exclusiveUntil );
+				}
+			}
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderNullData _newData = (BitemporalOrderNullData) _data;
+		BitemporalOrderItemNullList items =
+		(BitemporalOrderItemNullList) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+
+		BitemporalOrderStatusNull orderStatus =
+		(BitemporalOrderStatusNull) _newData.getOrderStatus();
+		if (orderStatus != null)
+		{
+			orderStatus.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalOrderNullAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderNullAbstract from = (BitemporalOrderNullAbstract)f;
+		BitemporalOrderNullData newData = from.zSynchronizedGetData();
+		this.setDescriptionUntil(newData.getDescription(), exclusiveUntil);
+		this.setOrderDateUntil(newData.getOrderDate(), exclusiveUntil);
+		this.setStateUntil(newData.getState(), exclusiveUntil);
+		this.setTrackingIdUntil(newData.getTrackingId(), exclusiveUntil);
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setUserIdUntil(newData.getUserId(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalOrderNullData newData = (BitemporalOrderNullData) d;
+		BitemporalOrderNullData data = (BitemporalOrderNullData) nd;
+		if (BitemporalOrderNullFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderNullFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderNullFinder.orderDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderNullFinder.orderId(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderNullFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderNullFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderNullFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderNullFinder.description(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderNullFinder.orderDate(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderNullFinder.orderId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderNullFinder.state(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderNullFinder.trackingId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderNullFinder.userId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getItems().cascadeTerminateAll();
+		{
+			BitemporalOrderStatusNull related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getItems().cascadeTerminateAllUntil(exclusiveUntil);
+		{
+			BitemporalOrderStatusNull related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeTerminateUntil(exclusiveUntil);
+		}
+
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderNullData data = ((BitemporalOrderNullData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderNullData data = ((BitemporalOrderNullData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderNullData data = ((BitemporalOrderNullData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), BitemporalOrderNullFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), BitemporalOrderNullFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderNullData localData = (BitemporalOrderNullData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderItemNull item = (BitemporalOrderItemNull) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(BitemporalOrderNullAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderItemNull item = (BitemporalOrderItemNull) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderStatusNull item = (BitemporalOrderStatusNull) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(BitemporalOrderNullAbstract.this);
+		}
+	}
+
+	protected class OrderStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderStatusNull item = (BitemporalOrderStatusNull) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,1616 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalOrderNullFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalOrderNull";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalOrderNull";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderNull");
+	private static final BitemporalOrderNullSingleFinder<BitemporalOrderNull, Object, BitemporalOrderNull> finder = new BitemporalOrderNullSingleFinder<BitemporalOrderNull, Object, BitemporalOrderNull>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byTrackingId = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalOrderNullFinder.BitemporalOrderNullRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("orderStatus");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[12];
+			result[0] = BitemporalOrderNullFinder.orderId().constructEqualityMapper(BitemporalOrderItemNullFinder.orderId());
+			result[1] = BitemporalOrderItemNullFinder.orderId().constructEqualityMapper(BitemporalOrderNullFinder.orderId());
+			result[2] = BitemporalOrderNullFinder.businessDate().constructEqualityMapper(BitemporalOrderItemNullFinder.businessDate());
+			result[3] = BitemporalOrderItemNullFinder.businessDate().constructEqualityMapper(BitemporalOrderNullFinder.businessDate());
+			result[4] = BitemporalOrderNullFinder.processingDate().constructEqualityMapper(BitemporalOrderItemNullFinder.processingDate());
+			result[5] = BitemporalOrderItemNullFinder.processingDate().constructEqualityMapper(BitemporalOrderNullFinder.processingDate());
+			result[6] = BitemporalOrderNullFinder.orderId().constructEqualityMapper(BitemporalOrderStatusNullFinder.orderId());
+			result[7] = BitemporalOrderStatusNullFinder.orderId().constructEqualityMapper(BitemporalOrderNullFinder.orderId());
+			result[8] = BitemporalOrderNullFinder.businessDate().constructEqualityMapper(BitemporalOrderStatusNullFinder.businessDate());
+			result[9] = BitemporalOrderStatusNullFinder.businessDate().constructEqualityMapper(BitemporalOrderNullFinder.businessDate());
+			result[10] = BitemporalOrderNullFinder.processingDate().constructEqualityMapper(BitemporalOrderStatusNullFinder.processingDate());
+			result[11] = BitemporalOrderStatusNullFinder.processingDate().constructEqualityMapper(BitemporalOrderNullFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalOrderNull findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalOrderNull findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalOrderNullList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderNullList) finder.findMany(operation);
+	}
+
+	public static BitemporalOrderNullList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderNullList) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalOrderNull findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalOrderNull) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalOrderNull findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderNullData _castedTargetData = (BitemporalOrderNullData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return BitemporalOrderNullFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderNullFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BitemporalOrderNull findByTrackingId(String trackingId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByTrackingId(trackingId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forTrackingId = new TrackingIdRhs();
+	private static final class TrackingIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderNullData _castedTargetData = (BitemporalOrderNullData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getTrackingId()))
+			{
+				return BitemporalOrderNullFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderNullFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static BitemporalOrderNull zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalOrderNull) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalOrderNullRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalOrderNull, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private BitemporalOrderNullItemsFinderSubclass<ParentOwnerType> items;
+		private BitemporalOrderNullOrderStatusFinderSubclass<ParentOwnerType> orderStatus;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalOrderNullRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalOrderNullRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderNullFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalOrderNullFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalOrderNullFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalOrderNullFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			attributes[6] = this.businessDateFrom();
+			attributes[7] = this.businessDateTo();
+			attributes[8] = this.processingDateFrom();
+			attributes[9] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.orderStatus());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.orderStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalOrderNull findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderNullFinder.findOne(operation, false);
+		}
+
+		public BitemporalOrderNull findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderNullFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalOrderNull> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalOrderNullList((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalOrderNull> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalOrderNullList result = (BitemporalOrderNullList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalOrderNull> constructEmptyList()
+		{
+			return new BitemporalOrderNullList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -364595036;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderNullFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderNullFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,64,4,0,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderNullFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,50,true, false) :
+					new MappedStringAttribute(BitemporalOrderNullFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,56,-1,-1,20,true, false) :
+					new MappedStringAttribute(BitemporalOrderNullFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,60,-1,-1,15,true, false) :
+					new MappedStringAttribute(BitemporalOrderNullFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderNullFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderNullFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderNullFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderNullFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderNullFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderNullFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderNullFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderNullFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttributeInfiniteNull.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalOrderNullFinder.businessDateInfinity,false,false,BitemporalOrderNullFinder.businessDateDefault,false,true) :
+					new MappedAsOfAttribute(BitemporalOrderNullFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttributeInfiniteNull.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalOrderNullFinder.processingDateInfinity,false,false,BitemporalOrderNullFinder.processingDateDefault,true,true) :
+					new MappedAsOfAttribute(BitemporalOrderNullFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemNullFinder.BitemporalOrderItemNullCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemNullList, BitemporalOrderNull> items()
+		{
+			BitemporalOrderNullItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderNullFinder.zGetBitemporalOrderNullItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BitemporalOrderNullItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusNullFinder.BitemporalOrderStatusNullSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatusNull, BitemporalOrderNull> orderStatus()
+		{
+			BitemporalOrderNullOrderStatusFinderSubclass<ParentOwnerType> result = this.orderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderNullFinder.zGetBitemporalOrderNullOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderNullOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemNullFinder.BitemporalOrderItemNullSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemNull, BitemporalOrderNull> itemForProduct(int productId)
+		{
+			BitemporalOrderNullItemForProductFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalOrderNullFinder.zGetBitemporalOrderNullItemForProductReverseMapper(productId));
+			newMapper.setToMany(false);
+			result = new BitemporalOrderNullItemForProductFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productId);
+			return result;
+		}
+
+		public BitemporalOrderItemNullFinder.BitemporalOrderItemNullSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemNull, BitemporalOrderNull> itemForProductSet(IntHashSet productIds)
+		{
+			BitemporalOrderNullItemForProductSetFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalOrderNullFinder.zGetBitemporalOrderNullItemForProductSetReverseMapper(productIds));
+			newMapper.setToMany(false);
+			result = new BitemporalOrderNullItemForProductSetFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productIds);
+			return result;
+		}
+
+		public BitemporalOrderItemNullFinder.BitemporalOrderItemNullCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemNullList, BitemporalOrderNull> expensiveItems(double price)
+		{
+			BitemporalOrderNullExpensiveItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalOrderNullFinder.zGetBitemporalOrderNullExpensiveItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new BitemporalOrderNullExpensiveItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public BitemporalOrderItemNullFinder.BitemporalOrderItemNullCollectionFinderForRelatedClasses<ParentOwnerType, List, BitemporalOrderNull> cheapItems(double price)
+		{
+			BitemporalOrderNullCheapItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalOrderNullFinder.zGetBitemporalOrderNullCheapItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new BitemporalOrderNullCheapItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalOrderNullFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalOrderNullFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalOrderNullCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalOrderNullRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderNullList, OwnerType>
+	{
+		public BitemporalOrderNullCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalOrderNullCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalOrderNullCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderNullCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalOrderNullSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderNullRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderNullList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalOrderNullSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalOrderNullSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalOrderNull other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrderNull findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrderNull _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderNull) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrderNull findByTrackingId(String trackingId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrderNull _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (trackingId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(trackingId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forTrackingId, businessDate, processingDate, BitemporalOrderNullFinder.zGetIndexbyTrackingIdRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderNull) _related;
+			if (_related == null)
+			{
+				_op = this.trackingId().eq(trackingId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalOrderNullSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderNullSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderNullSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetBitemporalOrderNullItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructBitemporalOrderNullItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetBitemporalOrderNullItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructBitemporalOrderNullItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderNullItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructBitemporalOrderNullItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullItemsPureReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullItemsReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullItemsMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(1));
+		itemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(3));
+		itemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(5));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper orderStatusReverseMapper = null;
+	public static Mapper zGetBitemporalOrderNullOrderStatusReverseMapper()
+	{
+		if (orderStatusReverseMapper == null)
+		{
+			orderStatusReverseMapper = zConstructBitemporalOrderNullOrderStatusReverseMapper();
+		}
+
+		return orderStatusReverseMapper;
+	}
+
+	private static Mapper orderStatusMapper = null;
+	public static Mapper zGetBitemporalOrderNullOrderStatusMapper()
+	{
+		if (orderStatusMapper == null)
+		{
+			orderStatusMapper = zConstructBitemporalOrderNullOrderStatusMapper();
+		}
+
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderNullOrderStatusPureReverseMapper()
+	{
+		if (orderStatusPureReverseMapper == null)
+		{
+			orderStatusPureReverseMapper = zConstructBitemporalOrderNullOrderStatusPureReverseMapper();
+		}
+
+		return orderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullOrderStatusPureReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(6));
+		orderStatusMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(8));
+		orderStatusMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(10));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullOrderStatusReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(6));
+		orderStatusMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(8));
+		orderStatusMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(10));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullOrderStatusMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(7));
+		orderStatusMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(9));
+		orderStatusMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(11));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("order");
+		return orderStatusMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderNullItemForProductReverseMapper(int productId)
+	{
+		return zConstructBitemporalOrderNullItemForProductReverseMapper(productId);
+	}
+
+	public static Mapper zGetBitemporalOrderNullItemForProductMapper(int productId)
+	{
+		return zConstructBitemporalOrderNullItemForProductMapper(productId);
+	}
+
+	private static Mapper itemForProductPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderNullItemForProductPureReverseMapper()
+	{
+		if (itemForProductPureReverseMapper == null)
+		{
+			itemForProductPureReverseMapper = zConstructBitemporalOrderNullItemForProductPureReverseMapper();
+		}
+
+		return itemForProductPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullItemForProductPureReverseMapper()
+	{
+		InternalList itemForProductMapperMapperList = new InternalList(3);
+		itemForProductMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		itemForProductMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		itemForProductMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper itemForProductMapper = new MultiEqualityMapper(itemForProductMapperMapperList);
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullItemForProductReverseMapper(int productId)
+	{
+		InternalList itemForProductMapperMapperList = new InternalList(3);
+		itemForProductMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		itemForProductMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		itemForProductMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper itemForProductMapper = new MultiEqualityMapper(itemForProductMapperMapperList);
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullItemForProductMapper(int productId)
+	{
+		InternalList itemForProductMapperMapperList = new InternalList(3);
+		itemForProductMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(1));
+		itemForProductMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(3));
+		itemForProductMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(5));
+		Mapper itemForProductMapper = new MultiEqualityMapper(itemForProductMapperMapperList);
+		itemForProductMapper.setName("itemForProduct_Reverse");
+		return itemForProductMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderNullItemForProductSetReverseMapper(IntHashSet productIds)
+	{
+		return zConstructBitemporalOrderNullItemForProductSetReverseMapper(productIds);
+	}
+
+	public static Mapper zGetBitemporalOrderNullItemForProductSetMapper(IntHashSet productIds)
+	{
+		return zConstructBitemporalOrderNullItemForProductSetMapper(productIds);
+	}
+
+	private static Mapper itemForProductSetPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderNullItemForProductSetPureReverseMapper()
+	{
+		if (itemForProductSetPureReverseMapper == null)
+		{
+			itemForProductSetPureReverseMapper = zConstructBitemporalOrderNullItemForProductSetPureReverseMapper();
+		}
+
+		return itemForProductSetPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullItemForProductSetPureReverseMapper()
+	{
+		InternalList itemForProductSetMapperMapperList = new InternalList(3);
+		itemForProductSetMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		itemForProductSetMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		itemForProductSetMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper itemForProductSetMapper = new MultiEqualityMapper(itemForProductSetMapperMapperList);
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullItemForProductSetReverseMapper(IntHashSet productIds)
+	{
+		InternalList itemForProductSetMapperMapperList = new InternalList(3);
+		itemForProductSetMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		itemForProductSetMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		itemForProductSetMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper itemForProductSetMapper = new MultiEqualityMapper(itemForProductSetMapperMapperList);
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullItemForProductSetMapper(IntHashSet productIds)
+	{
+		InternalList itemForProductSetMapperMapperList = new InternalList(3);
+		itemForProductSetMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(1));
+		itemForProductSetMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(3));
+		itemForProductSetMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(5));
+		Mapper itemForProductSetMapper = new MultiEqualityMapper(itemForProductSetMapperMapperList);
+		itemForProductSetMapper.setName("itemForProductSet_Reverse");
+		return itemForProductSetMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderNullExpensiveItemsReverseMapper(double price)
+	{
+		return zConstructBitemporalOrderNullExpensiveItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetBitemporalOrderNullExpensiveItemsMapper(double price)
+	{
+		return zConstructBitemporalOrderNullExpensiveItemsMapper(price);
+	}
+
+	private static Mapper expensiveItemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderNullExpensiveItemsPureReverseMapper()
+	{
+		if (expensiveItemsPureReverseMapper == null)
+		{
+			expensiveItemsPureReverseMapper = zConstructBitemporalOrderNullExpensiveItemsPureReverseMapper();
+		}
+
+		return expensiveItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullExpensiveItemsPureReverseMapper()
+	{
+		InternalList expensiveItemsMapperMapperList = new InternalList(3);
+		expensiveItemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		expensiveItemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		expensiveItemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper expensiveItemsMapper = new MultiEqualityMapper(expensiveItemsMapperMapperList);
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullExpensiveItemsReverseMapper(double price)
+	{
+		InternalList expensiveItemsMapperInnerMapperMapperList = new InternalList(3);
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper expensiveItemsMapperInnerMapper = new MultiEqualityMapper(expensiveItemsMapperInnerMapperMapperList);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, null, BitemporalOrderItemNullFinder.originalPrice().greaterThanEquals(price));
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullExpensiveItemsMapper(double price)
+	{
+		InternalList expensiveItemsMapperInnerMapperMapperList = new InternalList(3);
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(1));
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(3));
+		expensiveItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(5));
+		Mapper expensiveItemsMapperInnerMapper = new MultiEqualityMapper(expensiveItemsMapperInnerMapperMapperList);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, BitemporalOrderItemNullFinder.originalPrice().greaterThanEquals(price), null);
+		expensiveItemsMapper.setName("expensiveItems_Reverse");
+		return expensiveItemsMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderNullCheapItemsReverseMapper(double price)
+	{
+		return zConstructBitemporalOrderNullCheapItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetBitemporalOrderNullCheapItemsMapper(double price)
+	{
+		return zConstructBitemporalOrderNullCheapItemsMapper(price);
+	}
+
+	private static Mapper cheapItemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderNullCheapItemsPureReverseMapper()
+	{
+		if (cheapItemsPureReverseMapper == null)
+		{
+			cheapItemsPureReverseMapper = zConstructBitemporalOrderNullCheapItemsPureReverseMapper();
+		}
+
+		return cheapItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullCheapItemsPureReverseMapper()
+	{
+		InternalList cheapItemsMapperMapperList = new InternalList(3);
+		cheapItemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		cheapItemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		cheapItemsMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper cheapItemsMapper = new MultiEqualityMapper(cheapItemsMapperMapperList);
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullCheapItemsReverseMapper(double price)
+	{
+		InternalList cheapItemsMapperInnerMapperMapperList = new InternalList(3);
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(0));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(2));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(4));
+		Mapper cheapItemsMapperInnerMapper = new MultiEqualityMapper(cheapItemsMapperInnerMapperMapperList);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, null, BitemporalOrderItemNullFinder.originalPrice().lessThan(price));
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderNullCheapItemsMapper(double price)
+	{
+		InternalList cheapItemsMapperInnerMapperMapperList = new InternalList(3);
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(1));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(3));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalOrderNullFinder.zGetConstantJoin(5));
+		Mapper cheapItemsMapperInnerMapper = new MultiEqualityMapper(cheapItemsMapperInnerMapperMapperList);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, BitemporalOrderItemNullFinder.originalPrice().lessThan(price), null);
+		cheapItemsMapper.setName("cheapItems_Reverse");
+		return cheapItemsMapper;
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL.ORDER_ID **/
+	public static IntegerAttribute<BitemporalOrderNull> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL.ORDER_DATE **/
+	public static TimestampAttribute<BitemporalOrderNull> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL.USER_ID **/
+	public static IntegerAttribute<BitemporalOrderNull> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL.DESCRIPTION **/
+	public static StringAttribute<BitemporalOrderNull> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL."STATE" **/
+	public static StringAttribute<BitemporalOrderNull> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL.TRACKING_ID **/
+	public static StringAttribute<BitemporalOrderNull> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL.FROM_Z **/
+	public static TimestampAttribute<BitemporalOrderNull> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL.THRU_Z **/
+	public static TimestampAttribute<BitemporalOrderNull> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL.IN_Z **/
+	public static TimestampAttribute<BitemporalOrderNull> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_NULL.OUT_Z **/
+	public static TimestampAttribute<BitemporalOrderNull> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalOrderNull> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalOrderNull> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static BitemporalOrderItemNullFinder.BitemporalOrderItemNullCollectionFinderForRelatedClasses<BitemporalOrderNull, BitemporalOrderItemNullList, BitemporalOrderNull> items()
+	{
+		return finder.items();
+	}
+
+	public static class BitemporalOrderNullItemsFinderSubclass<ParentOwnerType> extends BitemporalOrderItemNullFinder.BitemporalOrderItemNullCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemNullList, BitemporalOrderNull>
+	{
+		public BitemporalOrderNullItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderItemNullFinder.orderId(),
+				BitemporalOrderItemNullFinder.businessDate(),
+				BitemporalOrderItemNullFinder.processingDate()).withExtractors(
+				BitemporalOrderNullFinder.orderId(),
+				BitemporalOrderNullFinder.businessDate(),
+				BitemporalOrderNullFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderNullItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BitemporalOrderNull) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected BitemporalOrderItemNullList plainValueOf(BitemporalOrderNull _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected BitemporalOrderItemNullList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderNullList)_obj).getItems();
+		}
+	}
+
+	public static BitemporalOrderStatusNullFinder.BitemporalOrderStatusNullSingleFinderForRelatedClasses<BitemporalOrderNull, BitemporalOrderStatusNull, BitemporalOrderNull> orderStatus()
+	{
+		return finder.orderStatus();
+	}
+
+	public static class BitemporalOrderNullOrderStatusFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusNullFinder.BitemporalOrderStatusNullSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatusNull, BitemporalOrderNull>
+	{
+		public BitemporalOrderNullOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderStatusNullFinder.orderId(),
+				BitemporalOrderStatusNullFinder.businessDate(),
+				BitemporalOrderStatusNullFinder.processingDate()).withExtractors(
+				BitemporalOrderNullFinder.orderId(),
+				BitemporalOrderNullFinder.businessDate(),
+				BitemporalOrderNullFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderNullOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BitemporalOrderNull) _obj).isOrderStatusModifiedSinceDetachment();
+		}
+
+		protected BitemporalOrderStatusNull plainValueOf(BitemporalOrderNull _obj)
+		{
+			return _obj.getOrderStatus();
+		}
+
+		protected BitemporalOrderStatusNullList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderNullList)_obj).getOrderStatus();
+		}
+	}
+
+	public static BitemporalOrderItemNullFinder.BitemporalOrderItemNullSingleFinderForRelatedClasses<BitemporalOrderNull, BitemporalOrderItemNull, BitemporalOrderNull> itemForProduct(int productId)
+	{
+		return finder.itemForProduct(productId);
+	}
+
+	public static class BitemporalOrderNullItemForProductFinderSubclass<ParentOwnerType> extends BitemporalOrderItemNullFinder.BitemporalOrderItemNullSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemNull, BitemporalOrderNull>
+	{
+		private int productId;
+		public BitemporalOrderNullItemForProductFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int productId)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productId = productId;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "itemForProduct";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderNullItemForProductFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productId
+			);
+		}
+
+		protected BitemporalOrderItemNull plainValueOf(BitemporalOrderNull _obj)
+		{
+			return _obj.getItemForProduct(productId);
+		}
+
+		protected BitemporalOrderItemNullList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderNullList)_obj).getItemForProducts(productId);
+		}
+	}
+
+	public static BitemporalOrderItemNullFinder.BitemporalOrderItemNullSingleFinderForRelatedClasses<BitemporalOrderNull, BitemporalOrderItemNull, BitemporalOrderNull> itemForProductSet(IntHashSet productIds)
+	{
+		return finder.itemForProductSet(productIds);
+	}
+
+	public static class BitemporalOrderNullItemForProductSetFinderSubclass<ParentOwnerType> extends BitemporalOrderItemNullFinder.BitemporalOrderItemNullSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemNull, BitemporalOrderNull>
+	{
+		private IntHashSet productIds;
+		public BitemporalOrderNullItemForProductSetFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , IntHashSet productIds)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productIds = productIds;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "itemForProductSet";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderNullItemForProductSetFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productIds
+			);
+		}
+
+		protected BitemporalOrderItemNull plainValueOf(BitemporalOrderNull _obj)
+		{
+			return _obj.getItemForProductSet(productIds);
+		}
+
+		protected BitemporalOrderItemNullList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderNullList)_obj).getItemForProductSets(productIds);
+		}
+	}
+
+	public static BitemporalOrderItemNullFinder.BitemporalOrderItemNullCollectionFinderForRelatedClasses<BitemporalOrderNull, BitemporalOrderItemNullList, BitemporalOrderNull> expensiveItems(double price)
+	{
+		return finder.expensiveItems(price);
+	}
+
+	public static class BitemporalOrderNullExpensiveItemsFinderSubclass<ParentOwnerType> extends BitemporalOrderItemNullFinder.BitemporalOrderItemNullCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemNullList, BitemporalOrderNull>
+	{
+		private double price;
+		public BitemporalOrderNullExpensiveItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "expensiveItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderNullExpensiveItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected BitemporalOrderItemNullList plainValueOf(BitemporalOrderNull _obj)
+		{
+			return _obj.getExpensiveItems(price);
+		}
+
+		protected BitemporalOrderItemNullList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderNullList)_obj).getExpensiveItems(price);
+		}
+	}
+
+	public static BitemporalOrderItemNullFinder.BitemporalOrderItemNullCollectionFinderForRelatedClasses<BitemporalOrderNull, List, BitemporalOrderNull> cheapItems(double price)
+	{
+		return finder.cheapItems(price);
+	}
+
+	public static class BitemporalOrderNullCheapItemsFinderSubclass<ParentOwnerType> extends BitemporalOrderItemNullFinder.BitemporalOrderItemNullCollectionFinderForRelatedClasses<ParentOwnerType, List, BitemporalOrderNull>
+	{
+		private double price;
+		public BitemporalOrderNullCheapItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderNullCheapItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected List plainValueOf(BitemporalOrderNull _obj)
+		{
+			return _obj.getCheapItems(price);
+		}
+
+		protected BitemporalOrderItemNullList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderNullList)_obj).getCheapItems(price);
+		}
+	}
+
+	public static Operation eq(BitemporalOrderNull other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static BitemporalOrderNullSingleFinder<BitemporalOrderNull, Object, BitemporalOrderNull> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("byUserId", new Attribute[] 
+		{
+			userId()
+		}
+
+		);
+		cache.addIndex("byState", new Attribute[] 
+		{
+			state()
+		}
+
+		);
+		INDEX_byTrackingId = cache.addUniqueIndex("byTrackingId", new Attribute[] 
+		{
+			trackingId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyTrackingIdRef() 
+	{
+		return INDEX_byTrackingId; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderNull");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,258 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderNullListAbstract extends DelegatingList<BitemporalOrderNull> implements MithraDatedTransactionalList<BitemporalOrderNull>
+{
+	public BitemporalOrderNullListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderNullListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderNullListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderNullListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderNull[] elements()
+	{
+		BitemporalOrderNull[] result = new BitemporalOrderNull[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderNullList intersection(BitemporalOrderNullList another)
+	{
+		return (BitemporalOrderNullList)super.intersection(another);
+	}
+
+	public BitemporalOrderNull getBitemporalOrderNullAt(int index)
+	{
+		return (BitemporalOrderNull)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId</pre>
+	* @see BitemporalOrderItemNull#getOrder() reverse relationship BitemporalOrderItemNull.getOrder()
+	* @return items
+	*/
+	public BitemporalOrderItemNullList getItems()
+	{
+		return (BitemporalOrderItemNullList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderNullFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatusNull.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatusNull#getOrder() reverse relationship BitemporalOrderStatusNull.getOrder()
+	* @return The order status
+	*/
+	public BitemporalOrderStatusNullList getOrderStatus()
+	{
+		return (BitemporalOrderStatusNullList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderNullFinder.orderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId and AuditedOrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public BitemporalOrderItemNullList getItemForProducts(int productId)
+	{
+		return (BitemporalOrderItemNullList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderNullFinder.itemForProduct(productId));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId and AuditedOrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public BitemporalOrderItemNullList getItemForProductSets(IntHashSet productIds)
+	{
+		return (BitemporalOrderItemNullList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderNullFinder.itemForProductSet(productIds));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId and BitemporalOrderItemNull.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public BitemporalOrderItemNullList getExpensiveItems(double price)
+	{
+		return (BitemporalOrderItemNullList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderNullFinder.expensiveItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemNull.orderId = this.orderId and BitemporalOrderItemNull.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public BitemporalOrderItemNullList getCheapItems(double price)
+	{
+		return (BitemporalOrderItemNullList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderNullFinder.cheapItems(price));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderNullFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderNullList getNonPersistentCopy()
+	{
+		BitemporalOrderNullList result = new BitemporalOrderNullList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderNullList asAdhoc()
+	{
+		return (BitemporalOrderNullList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderNull> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderNullList merge(MithraTransactionalList<BitemporalOrderNull> incoming, TopLevelMergeOptions<BitemporalOrderNull> mergeOptions)
+	{
+		return (BitemporalOrderNullList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderNullList getDetachedCopy()
+	{
+		BitemporalOrderNullList result = new BitemporalOrderNullList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderNullFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BitemporalOrderNullFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(BitemporalOrderNullFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(BitemporalOrderNullFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(BitemporalOrderNullFinder.trackingId(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderNullFinder.processingDateTo(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(BitemporalOrderNullFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
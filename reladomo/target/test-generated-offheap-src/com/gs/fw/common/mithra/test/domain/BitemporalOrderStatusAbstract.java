@@ -0,0 +1,991 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalOrderStatusAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+, OrderStatusInterface
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalOrderStatusFinder.businessDate()
+	,
+		BitemporalOrderStatusFinder.processingDate()
+	, BitemporalOrderStatusFinder.zGetDoubleAttributes(),BitemporalOrderStatusFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalOrderStatus.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final RelationshipHashStrategy forbitemporalOrderWithInterface = new BitemporalOrderWithInterfaceRhs();
+	private static final RelationshipHashStrategy forreadOnlyDatedOrderWithInterface = new ReadOnlyDatedOrderWithInterfaceRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderStatus _castedSrcObject = (BitemporalOrderStatus) _srcObject;
+			BitemporalOrderStatusData _castedSrcData = (BitemporalOrderStatusData) _srcData;
+			BitemporalOrderData _castedTargetData = (BitemporalOrderData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderStatusData _castedSrcData = (BitemporalOrderStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class BitemporalOrderWithInterfaceRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderWiFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderStatus _castedSrcObject = (BitemporalOrderStatus) _srcObject;
+			BitemporalOrderStatusData _castedSrcData = (BitemporalOrderStatusData) _srcData;
+			BitemporalOrderWiData _castedTargetData = (BitemporalOrderWiData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderStatusData _castedSrcData = (BitemporalOrderStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ReadOnlyDatedOrderWithInterfaceRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = ReadOnlyBitemporalOrderWiFinder.businessDate();
+		private AsOfAttribute processingDate = ReadOnlyBitemporalOrderWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderStatus _castedSrcObject = (BitemporalOrderStatus) _srcObject;
+			BitemporalOrderStatusData _castedSrcData = (BitemporalOrderStatusData) _srcData;
+			ReadOnlyBitemporalOrderWiData _castedTargetData = (ReadOnlyBitemporalOrderWiData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderStatusData _castedSrcData = (BitemporalOrderStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public BitemporalOrderStatusAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalOrderStatusFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalOrderStatusFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalOrderStatusAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalOrderStatusData zSynchronizedGetData()
+	{
+		return (BitemporalOrderStatusData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalOrderStatusFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalOrderStatusFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public BitemporalOrderStatus zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderStatus original = (BitemporalOrderStatus) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderStatus copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalOrderStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderStatus copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderStatus) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalOrderStatusFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalOrderStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderStatusAbstract result = (BitemporalOrderStatusAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalOrderStatus ) result;
+	}
+
+	public BitemporalOrderStatus zFindOriginal()
+	{
+		BitemporalOrderStatusData data = (BitemporalOrderStatusData) this.currentData;
+		Operation op;
+		op = BitemporalOrderStatusFinder.orderId().eq(data.getOrderId());
+		op = op.and(BitemporalOrderStatusFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalOrderStatusFinder.processingDate().eq(this.getProcessingDate()));
+		return BitemporalOrderStatusFinder.findOne(op);
+	}
+
+	public BitemporalOrderStatus getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderStatusAbstract result = (BitemporalOrderStatusAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalOrderStatus ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalOrderStatus copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderStatus) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalOrderStatus copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalOrderStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalOrderStatusData data = (BitemporalOrderStatusData) this.currentData;
+			Operation op = BitemporalOrderStatusFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalOrderStatusFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalOrderStatusFinder.orderId().eq(data.getOrderId()));
+			return BitemporalOrderStatusFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalOrderStatusData data = (BitemporalOrderStatusData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalOrderStatusFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderStatusData data = (BitemporalOrderStatusData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return this.zSynchronizedGetData().isLastUpdateTimeNull();
+	}
+
+	public boolean isLastUserNull()
+	{
+		return this.zSynchronizedGetData().isLastUserNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStatusNull()
+	{
+		return this.zSynchronizedGetData().isStatusNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.businessDateTo(), newValue, false );
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		return this.zSynchronizedGetData().getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.lastUpdateTime(), newValue, false );
+	}
+
+	public void setLastUpdateTimeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.lastUpdateTime(), newValue, false , exclusiveUntil);
+	}
+
+	public String getLastUser()
+	{
+		return this.zSynchronizedGetData().getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderStatusFinder.lastUser(), newValue, false );
+	}
+
+	public void setLastUserUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderStatusFinder.lastUser(), newValue, false , exclusiveUntil);
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderStatusFinder.orderId(), newValue, true ,false);
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderStatusFinder.orderId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getStatus()
+	{
+		BitemporalOrderStatusData data = this.zSynchronizedGetData();
+		if (data.isStatusNull()) MithraNullPrimitiveException.throwNew("status", data);
+		return data.getStatus();
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(BitemporalOrderStatusFinder.status(), newValue, false ,true);
+	}
+
+	public void setStatusUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderStatusFinder.status(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BitemporalOrderStatusFinder.status(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalOrderStatusData data2 = (BitemporalOrderStatusData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalOrderStatusFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setStatusNull()
+	{
+		zNullify(BitemporalOrderStatusFinder.status(), false);
+	}
+
+	public void setStatusNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderStatusFinder.status(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalOrderStatusData _newData = (BitemporalOrderStatusData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalOrderStatusData _newData = (BitemporalOrderStatusData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalOrderStatusData _newData = (BitemporalOrderStatusData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrder.orderId</pre>
+	* @see BitemporalOrder#getOrderStatus() reverse relationship BitemporalOrder.getOrderStatus()
+	* @return The order
+	*/
+	public BitemporalOrder getOrder()
+	{
+		BitemporalOrder _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderStatusData _data = (BitemporalOrderStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrder) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderStatusFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BitemporalOrder) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderStatusFinder.order().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderStatusData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrder) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderStatusFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(BitemporalOrder order)
+	{
+		((BitemporalOrder)order).setOrderStatus((BitemporalOrderStatus)this);
+	}
+
+	public void zSetParentContainerorder(BitemporalOrderAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderStatusData _data = (BitemporalOrderStatusData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderWi.orderId</pre>
+	* @see BitemporalOrderWi#getOrderStatusWithoutInterfaces() reverse relationship BitemporalOrderWi.getOrderStatusWithoutInterfaces()
+	* @return The bitemporal order with interface
+	*/
+	public BitemporalOrderWi getBitemporalOrderWithInterface()
+	{
+		BitemporalOrderWiImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderStatusData _data = (BitemporalOrderStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forbitemporalOrderWithInterface,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderStatusFinder.bitemporalOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderStatusFinder.bitemporalOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderWiFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderWiImpl) _data.getBitemporalOrderWithInterface();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderStatusFinder.bitemporalOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setBitemporalOrderWithInterface(BitemporalOrderWi bitemporalOrderWithInterface)
+	{
+		BitemporalOrderWiImpl _bitemporalOrderWithInterface = (BitemporalOrderWiImpl) bitemporalOrderWithInterface;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderStatusData _data = (BitemporalOrderStatusData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setBitemporalOrderWithInterface(_bitemporalOrderWithInterface);
+			if (_bitemporalOrderWithInterface == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_bitemporalOrderWithInterface.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_bitemporalOrderWithInterface == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_bitemporalOrderWithInterface.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyBitemporalOrderWi.orderId</pre>
+	* @see ReadOnlyBitemporalOrderWi#getOrderStatusWithoutInterface() reverse relationship ReadOnlyBitemporalOrderWi.getOrderStatusWithoutInterface()
+	* @return The read only dated order with interface
+	*/
+	public ReadOnlyBitemporalOrderWi getReadOnlyDatedOrderWithInterface()
+	{
+		ReadOnlyBitemporalOrderWiImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderStatusData _data = (BitemporalOrderStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forreadOnlyDatedOrderWithInterface,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyBitemporalOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderStatusFinder.readOnlyDatedOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderStatusFinder.readOnlyDatedOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+					_result = ReadOnlyBitemporalOrderWiFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ReadOnlyBitemporalOrderWiImpl) _data.getReadOnlyDatedOrderWithInterface();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderStatusFinder.readOnlyDatedOrderWithInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ReadOnlyBitemporalOrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setReadOnlyDatedOrderWithInterface(ReadOnlyBitemporalOrderWi readOnlyDatedOrderWithInterface)
+	{
+		ReadOnlyBitemporalOrderWiImpl _readOnlyDatedOrderWithInterface = (ReadOnlyBitemporalOrderWiImpl) readOnlyDatedOrderWithInterface;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderStatusData _data = (BitemporalOrderStatusData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setReadOnlyDatedOrderWithInterface(_readOnlyDatedOrderWithInterface);
+			if (_readOnlyDatedOrderWithInterface == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_readOnlyDatedOrderWithInterface.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_readOnlyDatedOrderWithInterface == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_readOnlyDatedOrderWithInterface.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalOrderStatusFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalOrderStatusData.BitemporalOrderStatusDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalOrderStatusData data = (BitemporalOrderStatusData) BitemporalOrderStatusFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalOrderStatus has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalOrderStatusData( BitemporalOrderStatusData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalOrderStatusData( BitemporalOrderStatusData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalOrderStatusFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderStatus getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalOrderStatusAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderStatusAbstract from = (BitemporalOrderStatusAbstract) f;
+		BitemporalOrderStatusData newData = from.zSynchronizedGetData();
+		this.setLastUpdateTime(newData.getLastUpdateTime());
+		this.setLastUser(newData.getLastUser());
+		if (from.isStatusNull())
+		{
+			this.setStatusNull();
+		}
+		else
+		{
+			this.setStatus(newData.getStatus());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderStatusData _newData = (BitemporalOrderStatusData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderStatusData _newData = (BitemporalOrderStatusData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalOrderStatusAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderStatusAbstract from = (BitemporalOrderStatusAbstract)f;
+		BitemporalOrderStatusData newData = from.zSynchronizedGetData();
+		this.setLastUpdateTimeUntil(newData.getLastUpdateTime(), exclusiveUntil);
+		this.setLastUserUntil(newData.getLastUser(), exclusiveUntil);
+		if (from.isStatusNull())
+		{
+			this.setStatusNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setStatusUntil(newData.getStatus(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalOrderStatusData newData = (BitemporalOrderStatusData) d;
+		BitemporalOrderStatusData data = (BitemporalOrderStatusData) nd;
+		if (BitemporalOrderStatusFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderStatusFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderStatusFinder.lastUser(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderStatusFinder.orderId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderStatusFinder.status(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderStatusFinder.lastUpdateTime(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderStatusFinder.lastUser(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderStatusFinder.orderId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderStatusFinder.status(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderStatusData data = ((BitemporalOrderStatusData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderStatusData data = ((BitemporalOrderStatusData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderStatusData data = ((BitemporalOrderStatusData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderStatusFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderStatusFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderStatusData localData = (BitemporalOrderStatusData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
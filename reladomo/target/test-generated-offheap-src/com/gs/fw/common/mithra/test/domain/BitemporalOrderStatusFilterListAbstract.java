@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderStatusFilterListAbstract extends DelegatingList<BitemporalOrderStatusFilter> implements MithraDatedTransactionalList<BitemporalOrderStatusFilter>
+{
+	public BitemporalOrderStatusFilterListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderStatusFilterListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderStatusFilterListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderStatusFilterListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderStatusFilter[] elements()
+	{
+		BitemporalOrderStatusFilter[] result = new BitemporalOrderStatusFilter[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderStatusFilterList intersection(BitemporalOrderStatusFilterList another)
+	{
+		return (BitemporalOrderStatusFilterList)super.intersection(another);
+	}
+
+	public BitemporalOrderStatusFilter getBitemporalOrderStatusFilterAt(int index)
+	{
+		return (BitemporalOrderStatusFilter)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderStatusFilterFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderStatusFilterList getNonPersistentCopy()
+	{
+		BitemporalOrderStatusFilterList result = new BitemporalOrderStatusFilterList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderStatusFilterList asAdhoc()
+	{
+		return (BitemporalOrderStatusFilterList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderStatusFilter> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderStatusFilterList merge(MithraTransactionalList<BitemporalOrderStatusFilter> incoming, TopLevelMergeOptions<BitemporalOrderStatusFilter> mergeOptions)
+	{
+		return (BitemporalOrderStatusFilterList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderStatusFilterList getDetachedCopy()
+	{
+		BitemporalOrderStatusFilterList result = new BitemporalOrderStatusFilterList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(BitemporalOrderStatusFilterFinder.lastUser(), newValue);
+	}
+
+	public void setIsAwesome(boolean newValue)
+	{
+		zSetBoolean(BitemporalOrderStatusFilterFinder.isAwesome(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFilterFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFilterFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFilterFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFilterFinder.businessDateTo(), newValue);
+	}
+
+	public void setIsAwesomeNull()
+	{
+		zSetAttributeNull(BitemporalOrderStatusFilterFinder.isAwesome());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1033 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalOrderStatusFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalOrderStatus";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalOrderStatus";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderStatus");
+	private static final BitemporalOrderStatusSingleFinder<BitemporalOrderStatus, Object, BitemporalOrderStatus> finder = new BitemporalOrderStatusSingleFinder<BitemporalOrderStatus, Object, BitemporalOrderStatus>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalOrderStatusFinder.BitemporalOrderStatusRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("status");
+		finderMethodMap.addNormalAttributeName("lastUser");
+		finderMethodMap.addNormalAttributeName("lastUpdateTime");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("order");
+		finderMethodMap.addRelationshipName("bitemporalOrderWithInterface");
+		finderMethodMap.addRelationshipName("readOnlyDatedOrderWithInterface");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[12];
+			result[0] = BitemporalOrderStatusFinder.lastUser().constructEqualityMapper(UnconfiguredBitemporalOrderStatusFilterFinder.lastUser());
+			result[1] = UnconfiguredBitemporalOrderStatusFilterFinder.lastUser().constructEqualityMapper(BitemporalOrderStatusFinder.lastUser());
+			result[2] = BitemporalOrderStatusFinder.businessDate().constructEqualityMapper(UnconfiguredBitemporalOrderStatusFilterFinder.businessDate());
+			result[3] = UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().constructEqualityMapper(BitemporalOrderStatusFinder.businessDate());
+			result[4] = BitemporalOrderStatusFinder.processingDate().constructEqualityMapper(UnconfiguredBitemporalOrderStatusFilterFinder.processingDate());
+			result[5] = UnconfiguredBitemporalOrderStatusFilterFinder.processingDate().constructEqualityMapper(BitemporalOrderStatusFinder.processingDate());
+			result[6] = BitemporalOrderStatusFinder.lastUser().constructEqualityMapper(BitemporalOrderStatusFilterFinder.lastUser());
+			result[7] = BitemporalOrderStatusFilterFinder.lastUser().constructEqualityMapper(BitemporalOrderStatusFinder.lastUser());
+			result[8] = BitemporalOrderStatusFinder.businessDate().constructEqualityMapper(BitemporalOrderStatusFilterFinder.businessDate());
+			result[9] = BitemporalOrderStatusFilterFinder.businessDate().constructEqualityMapper(BitemporalOrderStatusFinder.businessDate());
+			result[10] = BitemporalOrderStatusFinder.processingDate().constructEqualityMapper(BitemporalOrderStatusFilterFinder.processingDate());
+			result[11] = BitemporalOrderStatusFilterFinder.processingDate().constructEqualityMapper(BitemporalOrderStatusFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = BitemporalOrderStatusFinder.orderId().eq(130);
+			result[1] = BitemporalOrderStatusFinder.orderId().eq(140);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalOrderStatus findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalOrderStatus findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalOrderStatusList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderStatusList) finder.findMany(operation);
+	}
+
+	public static BitemporalOrderStatusList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderStatusList) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalOrderStatus findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalOrderStatus) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalOrderStatus findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderStatusData _castedTargetData = (BitemporalOrderStatusData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return BitemporalOrderStatusFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderStatusFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BitemporalOrderStatus zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalOrderStatus) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalOrderStatusRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalOrderStatus, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements OrderStatusInterfaceFinder<BitemporalOrderStatus>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> status;
+		private StringAttribute<ParentOwnerType> lastUser;
+		private TimestampAttribute<ParentOwnerType> lastUpdateTime;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private BitemporalOrderStatusOrderFinderSubclass<ParentOwnerType> order;
+		private BitemporalOrderStatusBitemporalOrderWithInterfaceFinderSubclass<ParentOwnerType> bitemporalOrderWithInterface;
+		private BitemporalOrderStatusReadOnlyDatedOrderWithInterfaceFinderSubclass<ParentOwnerType> readOnlyDatedOrderWithInterface;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalOrderStatusRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalOrderStatusRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderStatusFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalOrderStatusFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalOrderStatusFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalOrderStatusFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.orderId();
+			attributes[1] = this.status();
+			attributes[2] = this.lastUser();
+			attributes[3] = this.lastUpdateTime();
+			attributes[4] = this.processingDateFrom();
+			attributes[5] = this.processingDateTo();
+			attributes[6] = this.businessDateFrom();
+			attributes[7] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.order());
+				relatedFinders.add(this.bitemporalOrderWithInterface());
+				relatedFinders.add(this.readOnlyDatedOrderWithInterface());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalOrderStatus findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderStatusFinder.findOne(operation, false);
+		}
+
+		public BitemporalOrderStatus findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderStatusFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalOrderStatus> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalOrderStatusList((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalOrderStatus> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalOrderStatusList result = (BitemporalOrderStatusList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalOrderStatus> constructEmptyList()
+		{
+			return new BitemporalOrderStatusList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -319184941;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderStatusFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "BitemporalOrder", "orderStatus");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> status()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.status;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("\"STATUS\"","","status",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,56,4,0,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderStatusFinder.status(), this.mapper, this.zGetValueSelector());
+				this.status = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> lastUser()
+		{
+			StringAttribute<ParentOwnerType> result = this.lastUser;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LAST_USER","","lastUser",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,36,-1,-1,20,true, false) :
+					new MappedStringAttribute(BitemporalOrderStatusFinder.lastUser(), this.mapper, this.zGetValueSelector());
+				this.lastUser = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> lastUpdateTime()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.lastUpdateTime;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("LAST_UPDATE_TIME","","lastUpdateTime",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderStatusFinder.lastUpdateTime(), this.mapper, this.zGetValueSelector());
+				this.lastUpdateTime = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderStatusFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderStatusFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderStatusFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderStatusFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderStatusFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderStatusFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderStatusFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderStatusFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalOrderStatusFinder.businessDateInfinity,false,false,BitemporalOrderStatusFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BitemporalOrderStatusFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalOrderStatusFinder.processingDateInfinity,false,false,BitemporalOrderStatusFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BitemporalOrderStatusFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrder, BitemporalOrderStatus> order()
+		{
+			BitemporalOrderStatusOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderStatusOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderWiFinder.BitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderWi, BitemporalOrderStatus> bitemporalOrderWithInterface()
+		{
+			BitemporalOrderStatusBitemporalOrderWithInterfaceFinderSubclass<ParentOwnerType> result = this.bitemporalOrderWithInterface;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderWiFinder.zGetBitemporalOrderWiOrderStatusWithoutInterfacesMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderStatusBitemporalOrderWithInterfaceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.bitemporalOrderWithInterface = result;
+			}
+
+			return result;
+		}
+
+		public ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderWi, BitemporalOrderStatus> readOnlyDatedOrderWithInterface()
+		{
+			BitemporalOrderStatusReadOnlyDatedOrderWithInterfaceFinderSubclass<ParentOwnerType> result = this.readOnlyDatedOrderWithInterface;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyBitemporalOrderWiFinder.zGetReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderStatusReadOnlyDatedOrderWithInterfaceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.readOnlyDatedOrderWithInterface = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalOrderStatusFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalOrderStatusFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalOrderStatusCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalOrderStatusRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderStatusList, OwnerType>
+	{
+		public BitemporalOrderStatusCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalOrderStatusCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalOrderStatusCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderStatusCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalOrderStatusSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderStatusRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderStatusList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalOrderStatusSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalOrderStatusSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalOrderStatus other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrderStatus findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrderStatus _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderStatus) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderStatusSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderStatusSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to BITEMPORAL_ORDER_STATUS.ORDER_ID **/
+	public static IntegerAttribute<BitemporalOrderStatus> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_STATUS."STATUS" **/
+	public static IntegerAttribute<BitemporalOrderStatus> status()
+	{
+		return finder.status();
+	}
+
+	/** maps to BITEMPORAL_ORDER_STATUS.LAST_USER **/
+	public static StringAttribute<BitemporalOrderStatus> lastUser()
+	{
+		return finder.lastUser();
+	}
+
+	/** maps to BITEMPORAL_ORDER_STATUS.LAST_UPDATE_TIME **/
+	public static TimestampAttribute<BitemporalOrderStatus> lastUpdateTime()
+	{
+		return finder.lastUpdateTime();
+	}
+
+	/** maps to BITEMPORAL_ORDER_STATUS.IN_Z **/
+	public static TimestampAttribute<BitemporalOrderStatus> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_STATUS.OUT_Z **/
+	public static TimestampAttribute<BitemporalOrderStatus> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to BITEMPORAL_ORDER_STATUS.FROM_Z **/
+	public static TimestampAttribute<BitemporalOrderStatus> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_STATUS.THRU_Z **/
+	public static TimestampAttribute<BitemporalOrderStatus> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalOrderStatus> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalOrderStatus> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<BitemporalOrderStatus, BitemporalOrder, BitemporalOrderStatus> order()
+	{
+		return finder.order();
+	}
+
+	public static class BitemporalOrderStatusOrderFinderSubclass<ParentOwnerType> extends BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrder, BitemporalOrderStatus>
+	{
+		public BitemporalOrderStatusOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderFinder.orderId(),
+				BitemporalOrderFinder.businessDate(),
+				BitemporalOrderFinder.processingDate()).withExtractors(
+				BitemporalOrderStatusFinder.orderId(),
+				BitemporalOrderStatusFinder.businessDate(),
+				BitemporalOrderStatusFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderStatusOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrder plainValueOf(BitemporalOrderStatus _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected BitemporalOrderList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderStatusList)_obj).getOrders();
+		}
+	}
+
+	public static BitemporalOrderWiFinder.BitemporalOrderWiSingleFinderForRelatedClasses<BitemporalOrderStatus, BitemporalOrderWi, BitemporalOrderStatus> bitemporalOrderWithInterface()
+	{
+		return finder.bitemporalOrderWithInterface();
+	}
+
+	public static class BitemporalOrderStatusBitemporalOrderWithInterfaceFinderSubclass<ParentOwnerType> extends BitemporalOrderWiFinder.BitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderWi, BitemporalOrderStatus>
+	{
+		public BitemporalOrderStatusBitemporalOrderWithInterfaceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "bitemporalOrderWithInterface";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderWiFinder.orderId(),
+				BitemporalOrderWiFinder.businessDate(),
+				BitemporalOrderWiFinder.processingDate()).withExtractors(
+				BitemporalOrderStatusFinder.orderId(),
+				BitemporalOrderStatusFinder.businessDate(),
+				BitemporalOrderStatusFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderStatusBitemporalOrderWithInterfaceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderWi plainValueOf(BitemporalOrderStatus _obj)
+		{
+			return _obj.getBitemporalOrderWithInterface();
+		}
+
+		protected BitemporalOrderWiList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderStatusList)_obj).getBitemporalOrderWithInterfaces();
+		}
+	}
+
+	public static ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<BitemporalOrderStatus, ReadOnlyBitemporalOrderWi, BitemporalOrderStatus> readOnlyDatedOrderWithInterface()
+	{
+		return finder.readOnlyDatedOrderWithInterface();
+	}
+
+	public static class BitemporalOrderStatusReadOnlyDatedOrderWithInterfaceFinderSubclass<ParentOwnerType> extends ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderWi, BitemporalOrderStatus>
+	{
+		public BitemporalOrderStatusReadOnlyDatedOrderWithInterfaceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "readOnlyDatedOrderWithInterface";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ReadOnlyBitemporalOrderWiFinder.orderId(),
+				ReadOnlyBitemporalOrderWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderWiFinder.processingDate()).withExtractors(
+				BitemporalOrderStatusFinder.orderId(),
+				BitemporalOrderStatusFinder.businessDate(),
+				BitemporalOrderStatusFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderStatusReadOnlyDatedOrderWithInterfaceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ReadOnlyBitemporalOrderWi plainValueOf(BitemporalOrderStatus _obj)
+		{
+			return _obj.getReadOnlyDatedOrderWithInterface();
+		}
+
+		protected ReadOnlyBitemporalOrderWiList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderStatusList)_obj).getReadOnlyDatedOrderWithInterfaces();
+		}
+	}
+
+	public static Operation eq(BitemporalOrderStatus other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static BitemporalOrderStatusSingleFinder<BitemporalOrderStatus, Object, BitemporalOrderStatus> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			lastUser()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderStatus");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,222 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderStatusListAbstract extends DelegatingList<BitemporalOrderStatus> implements MithraDatedTransactionalList<BitemporalOrderStatus>
+{
+	public BitemporalOrderStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderStatus[] elements()
+	{
+		BitemporalOrderStatus[] result = new BitemporalOrderStatus[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderStatusList intersection(BitemporalOrderStatusList another)
+	{
+		return (BitemporalOrderStatusList)super.intersection(another);
+	}
+
+	public BitemporalOrderStatus getBitemporalOrderStatusAt(int index)
+	{
+		return (BitemporalOrderStatus)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrder.orderId</pre>
+	* @see BitemporalOrder#getOrderStatus() reverse relationship BitemporalOrder.getOrderStatus()
+	* @return The order
+	*/
+	public BitemporalOrderList getOrders()
+	{
+		return (BitemporalOrderList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderStatusFinder.order());
+	}
+
+	public void zSetParentContainerorder(BitemporalOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			BitemporalOrderStatus item = this.getBitemporalOrderStatusAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderWi.orderId</pre>
+	* @see BitemporalOrderWi#getOrderStatusWithoutInterfaces() reverse relationship BitemporalOrderWi.getOrderStatusWithoutInterfaces()
+	* @return The bitemporal order with interface
+	*/
+	public BitemporalOrderWiList getBitemporalOrderWithInterfaces()
+	{
+		return (BitemporalOrderWiList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderStatusFinder.bitemporalOrderWithInterface());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyBitemporalOrderWi.orderId</pre>
+	* @see ReadOnlyBitemporalOrderWi#getOrderStatusWithoutInterface() reverse relationship ReadOnlyBitemporalOrderWi.getOrderStatusWithoutInterface()
+	* @return The read only dated order with interface
+	*/
+	public ReadOnlyBitemporalOrderWiList getReadOnlyDatedOrderWithInterfaces()
+	{
+		return (ReadOnlyBitemporalOrderWiList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderStatusFinder.readOnlyDatedOrderWithInterface());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderStatusList getNonPersistentCopy()
+	{
+		BitemporalOrderStatusList result = new BitemporalOrderStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderStatusList asAdhoc()
+	{
+		return (BitemporalOrderStatusList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderStatus> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderStatusList merge(MithraTransactionalList<BitemporalOrderStatus> incoming, TopLevelMergeOptions<BitemporalOrderStatus> mergeOptions)
+	{
+		return (BitemporalOrderStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderStatusList getDetachedCopy()
+	{
+		BitemporalOrderStatusList result = new BitemporalOrderStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderStatusFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(BitemporalOrderStatusFinder.status(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(BitemporalOrderStatusFinder.lastUser(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusFinder.businessDateTo(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(BitemporalOrderStatusFinder.status());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
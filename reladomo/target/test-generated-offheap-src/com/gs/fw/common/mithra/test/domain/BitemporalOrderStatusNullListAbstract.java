@@ -0,0 +1,200 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderStatusNullListAbstract extends DelegatingList<BitemporalOrderStatusNull> implements MithraDatedTransactionalList<BitemporalOrderStatusNull>
+{
+	public BitemporalOrderStatusNullListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderStatusNullListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderStatusNullListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderStatusNullListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderStatusNull[] elements()
+	{
+		BitemporalOrderStatusNull[] result = new BitemporalOrderStatusNull[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderStatusNullList intersection(BitemporalOrderStatusNullList another)
+	{
+		return (BitemporalOrderStatusNullList)super.intersection(another);
+	}
+
+	public BitemporalOrderStatusNull getBitemporalOrderStatusNullAt(int index)
+	{
+		return (BitemporalOrderStatusNull)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderNull.orderId</pre>
+	* @see BitemporalOrderNull#getOrderStatus() reverse relationship BitemporalOrderNull.getOrderStatus()
+	* @return The order
+	*/
+	public BitemporalOrderNullList getOrders()
+	{
+		return (BitemporalOrderNullList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderStatusNullFinder.order());
+	}
+
+	public void zSetParentContainerorder(BitemporalOrderNullAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			BitemporalOrderStatusNull item = this.getBitemporalOrderStatusNullAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderStatusNullFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderStatusNullList getNonPersistentCopy()
+	{
+		BitemporalOrderStatusNullList result = new BitemporalOrderStatusNullList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderStatusNullList asAdhoc()
+	{
+		return (BitemporalOrderStatusNullList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderStatusNull> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderStatusNullList merge(MithraTransactionalList<BitemporalOrderStatusNull> incoming, TopLevelMergeOptions<BitemporalOrderStatusNull> mergeOptions)
+	{
+		return (BitemporalOrderStatusNullList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderStatusNullList getDetachedCopy()
+	{
+		BitemporalOrderStatusNullList result = new BitemporalOrderStatusNullList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderStatusNullFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(BitemporalOrderStatusNullFinder.status(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(BitemporalOrderStatusNullFinder.lastUser(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusNullFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusNullFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusNullFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusNullFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderStatusNullFinder.businessDateTo(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(BitemporalOrderStatusNullFinder.status());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,165 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderToOrderStatusListAbstract extends DelegatingList<BitemporalOrderToOrderStatus> implements MithraDatedTransactionalList<BitemporalOrderToOrderStatus>
+{
+	public BitemporalOrderToOrderStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderToOrderStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderToOrderStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderToOrderStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderToOrderStatus[] elements()
+	{
+		BitemporalOrderToOrderStatus[] result = new BitemporalOrderToOrderStatus[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderToOrderStatusList intersection(BitemporalOrderToOrderStatusList another)
+	{
+		return (BitemporalOrderToOrderStatusList)super.intersection(another);
+	}
+
+	public BitemporalOrderToOrderStatus getBitemporalOrderToOrderStatusAt(int index)
+	{
+		return (BitemporalOrderToOrderStatus)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderToOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderToOrderStatusList getNonPersistentCopy()
+	{
+		BitemporalOrderToOrderStatusList result = new BitemporalOrderToOrderStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderToOrderStatusList asAdhoc()
+	{
+		return (BitemporalOrderToOrderStatusList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderToOrderStatus> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderToOrderStatusList merge(MithraTransactionalList<BitemporalOrderToOrderStatus> incoming, TopLevelMergeOptions<BitemporalOrderToOrderStatus> mergeOptions)
+	{
+		return (BitemporalOrderToOrderStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderToOrderStatusList getDetachedCopy()
+	{
+		BitemporalOrderToOrderStatusList result = new BitemporalOrderToOrderStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderToOrderStatusFinder.orderId(), newValue);
+	}
+
+	public void setStatusId(int newValue)
+	{
+		zSetInteger(BitemporalOrderToOrderStatusFinder.statusId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderToOrderStatusFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderToOrderStatusFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderToOrderStatusFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderToOrderStatusFinder.businessDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,61 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface BitemporalOrderWiAbstract
+{
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp newValue);
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp newValue);
+	boolean isBusinessDateToNull();
+	String getDescription();
+	void setDescription(String newValue);
+	boolean isDescriptionNull();
+	void setDescriptionUntil(String newValue, Timestamp exclusiveUntil);
+	Timestamp getOrderDate();
+	void setOrderDate(Timestamp newValue);
+	boolean isOrderDateNull();
+	void setOrderDateUntil(Timestamp newValue, Timestamp exclusiveUntil);
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	void setOrderIdUntil(int newValue, Timestamp exclusiveUntil);
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp newValue);
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp newValue);
+	boolean isProcessingDateToNull();
+	String getState();
+	void setState(String newValue);
+	boolean isStateNull();
+	void setStateUntil(String newValue, Timestamp exclusiveUntil);
+	String getTrackingId();
+	void setTrackingId(String newValue);
+	boolean isTrackingIdNull();
+	void setTrackingIdUntil(String newValue, Timestamp exclusiveUntil);
+	int getUserId();
+	void setUserId(int newValue);
+	boolean isUserIdNull();
+	void setUserIdUntil(int newValue, Timestamp exclusiveUntil);
+	void setUserIdNull();
+	public BitemporalOrderItemWiList getItems();
+	void setItems(BitemporalOrderItemWiList items);
+	public BitemporalOrderItemList getItemsWithoutInterfaces();
+	void setItemsWithoutInterfaces(BitemporalOrderItemList itemsWithoutInterfaces);
+	public BitemporalOrderStatusWi getOrderStatus();
+	void setOrderStatus(BitemporalOrderStatusWi orderStatus);
+	public BitemporalOrderStatus getOrderStatusWithoutInterfaces();
+	void setOrderStatusWithoutInterfaces(BitemporalOrderStatus orderStatusWithoutInterfaces);
+	public BitemporalOrderClassificationWiList getClassifications();
+	void setClassifications(BitemporalOrderClassificationWiList classifications);
+	public BitemporalOrderClassificationWi getClassificationById(int classificationId);
+	Timestamp getBusinessDate();
+	Timestamp getProcessingDate();
+}
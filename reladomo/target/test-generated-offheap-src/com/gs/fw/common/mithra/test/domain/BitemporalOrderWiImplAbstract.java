@@ -0,0 +1,1535 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalOrderWiImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalOrderWiFinder.businessDate()
+	,
+		BitemporalOrderWiFinder.processingDate()
+	, BitemporalOrderWiFinder.zGetDoubleAttributes(),BitemporalOrderWiFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalOrderWi.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final RelationshipHashStrategy fororderStatusWithoutInterfaces = new OrderStatusWithoutInterfacesRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderStatusWiFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderStatusWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderWiImpl _castedSrcObject = (BitemporalOrderWiImpl) _srcObject;
+			BitemporalOrderWiData _castedSrcData = (BitemporalOrderWiData) _srcData;
+			BitemporalOrderStatusWiData _castedTargetData = (BitemporalOrderStatusWiData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderWiData _castedSrcData = (BitemporalOrderWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderStatusWithoutInterfacesRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderStatusFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderStatusFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderWiImpl _castedSrcObject = (BitemporalOrderWiImpl) _srcObject;
+			BitemporalOrderWiData _castedSrcData = (BitemporalOrderWiData) _srcData;
+			BitemporalOrderStatusData _castedTargetData = (BitemporalOrderStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderWiData _castedSrcData = (BitemporalOrderWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForRead(this);
+		BitemporalOrderItemWiListImpl items =
+		(BitemporalOrderItemWiListImpl) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public boolean isOrderStatusModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderStatusWiImpl _existing = (BitemporalOrderStatusWiImpl) this.getOriginalPersistentObject().getOrderStatus();
+			return _existing != null;
+		}
+
+		BitemporalOrderStatusWiImpl orderStatus =
+		(BitemporalOrderStatusWiImpl) _data.getOrderStatus();
+		if( orderStatus != null)
+		{
+			return orderStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public BitemporalOrderWiImplAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalOrderWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalOrderWiFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalOrderWiImplAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalOrderWiData zSynchronizedGetData()
+	{
+		return (BitemporalOrderWiData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalOrderWiFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalOrderWiFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+		BitemporalOrderItemWiListImpl items =
+		(BitemporalOrderItemWiListImpl ) _data.getItems();
+		BitemporalOrderStatusWiImpl orderStatus =
+		(BitemporalOrderStatusWiImpl ) _data.getOrderStatus();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		BitemporalOrderWiFinder.BitemporalOrderWiRelatedFinder parentFinder = (BitemporalOrderWiFinder.BitemporalOrderWiRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderWiData _newData = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+		{
+			BitemporalOrderItemWiListImpl items =
+			(BitemporalOrderItemWiListImpl) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			BitemporalOrderStatusWiImpl orderStatus =
+			(BitemporalOrderStatusWiImpl) _newData.getOrderStatus();
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus != null, navigationStats);
+			if (orderStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public BitemporalOrderWiImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+		BitemporalOrderItemWiListImpl items =
+		(BitemporalOrderItemWiListImpl ) _data.getItems();
+		BitemporalOrderStatusWiImpl orderStatus =
+		(BitemporalOrderStatusWiImpl ) _data.getOrderStatus();
+		BitemporalOrderWiImpl original = (BitemporalOrderWiImpl) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		((BitemporalOrderItemWiListImpl)this.getItems()).cascadeInsertAllUntil(exclusiveUntil);
+		{
+			BitemporalOrderStatusWiImpl related = (BitemporalOrderStatusWiImpl)this.getOrderStatus();
+			if (related != null)
+			related.cascadeInsertUntil(exclusiveUntil);
+		}
+
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderWiImpl copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalOrderWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrderWiImpl copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderWiImpl) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalOrderWiFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalOrderWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderWiImplAbstract result = (BitemporalOrderWiImplAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalOrderWiImpl ) result;
+	}
+
+	public BitemporalOrderWiImpl zFindOriginal()
+	{
+		BitemporalOrderWiData data = (BitemporalOrderWiData) this.currentData;
+		Operation op;
+		op = BitemporalOrderWiFinder.orderId().eq(data.getOrderId());
+		op = op.and(BitemporalOrderWiFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalOrderWiFinder.processingDate().eq(this.getProcessingDate()));
+		return (BitemporalOrderWiImpl) BitemporalOrderWiFinder.findOne(op);
+	}
+
+	public BitemporalOrderWiImpl getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderWiImplAbstract result = (BitemporalOrderWiImplAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalOrderWiImpl ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		if(isOrderStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalOrderWiImpl copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrderWiImpl) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalOrderWiImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalOrderWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalOrderWiData data = (BitemporalOrderWiData) this.currentData;
+			Operation op = BitemporalOrderWiFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalOrderWiFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalOrderWiFinder.orderId().eq(data.getOrderId()));
+			return BitemporalOrderWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalOrderWiData data = (BitemporalOrderWiData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalOrderWiFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderWiData data = (BitemporalOrderWiData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isDescriptionNull();
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.zSynchronizedGetData().isOrderDateNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.zSynchronizedGetData().isTrackingIdNull();
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zSynchronizedGetData().isUserIdNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getDescription()
+	{
+		return this.zSynchronizedGetData().getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(BitemporalOrderWiFinder.description(), newValue, false );
+	}
+
+	public void setDescriptionUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(BitemporalOrderWiFinder.description(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.zSynchronizedGetData().getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.orderDate(), newValue, false );
+	}
+
+	public void setOrderDateUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.orderDate(), newValue, false , exclusiveUntil);
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(BitemporalOrderWiFinder.orderId(), newValue, true ,false);
+		if (d == null) return;
+		BitemporalOrderWiData data = (BitemporalOrderWiData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			BitemporalOrderItemWiListImpl items =
+			(BitemporalOrderItemWiListImpl) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+
+			BitemporalOrderStatusWiImpl orderStatus =
+			(BitemporalOrderStatusWiImpl) data.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.setOrderId(newValue);
+			}
+		}
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetInteger(BitemporalOrderWiFinder.orderId(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		BitemporalOrderWiData data = (BitemporalOrderWiData) d;
+		BitemporalOrderItemWiList items =
+		(BitemporalOrderItemWiList) data.getItems();
+		if (items != null)
+		{
+			items.setOrderId(newValue);
+		}
+
+		BitemporalOrderStatusWi orderStatus =
+		(BitemporalOrderStatusWi) data.getOrderStatus();
+		if (orderStatus != null)
+		{
+			orderStatus.setOrderId(newValue);
+		}
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderWiFinder.state(), newValue, false );
+	}
+
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderWiFinder.state(), newValue, false , exclusiveUntil);
+	}
+
+	public String getTrackingId()
+	{
+		return this.zSynchronizedGetData().getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(BitemporalOrderWiFinder.trackingId(), newValue, false );
+	}
+
+	public void setTrackingIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(BitemporalOrderWiFinder.trackingId(), newValue, false , exclusiveUntil);
+	}
+
+	public int getUserId()
+	{
+		BitemporalOrderWiData data = this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BitemporalOrderWiFinder.userId(), newValue, false ,true);
+	}
+
+	public void setUserIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderWiFinder.userId(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BitemporalOrderWiFinder.userId(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalOrderWiData data2 = (BitemporalOrderWiData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalOrderWiFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(BitemporalOrderWiFinder.userId(), false);
+	}
+
+	public void setUserIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderWiFinder.userId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalOrderWiData _newData = (BitemporalOrderWiData) _data;
+		{
+			BitemporalOrderItemWiListImpl items =
+			(BitemporalOrderItemWiListImpl) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderStatusWiImpl orderStatus =
+			(BitemporalOrderStatusWiImpl) this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			BitemporalOrderStatusWiImpl orderStatus =
+			(BitemporalOrderStatusWiImpl) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				BitemporalOrderStatusWiImpl _existing =
+				(BitemporalOrderStatusWiImpl) this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalOrderWiData _newData = (BitemporalOrderWiData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BitemporalOrderItemWiListImpl)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((BitemporalOrderStatusWiImpl)_newData.getOrderStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalOrderWiData _newData = (BitemporalOrderWiData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BitemporalOrderItemWiListImpl)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((BitemporalOrderStatusWiImpl)_newData.getOrderStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemWi.orderId = this.orderId</pre>
+	* @see BitemporalOrderItemWi#getOrder() reverse relationship BitemporalOrderItemWi.getOrder()
+	* @return items
+	*/
+	public BitemporalOrderItemWiList getItems()
+	{
+		BitemporalOrderItemWiListImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.items().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (BitemporalOrderItemWiListImpl) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.items().zGetRelationshipMultiExtractor(), this);
+					_result = new BitemporalOrderItemWiListImpl(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderItemWiListImpl) _data.getItems();
+			if (_result == null)
+			{
+				_result = new BitemporalOrderItemWiListImpl();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalOrderItemWiListImpl(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(BitemporalOrderItemWiList items)
+	{
+		BitemporalOrderItemWiListImpl _items = (BitemporalOrderItemWiListImpl) items;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.items().zGetRelationshipMultiExtractor(), this),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			BitemporalOrderItemWiListImpl itemsToDelete = new BitemporalOrderItemWiListImpl();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				BitemporalOrderItemWiImpl item = _items.getBitemporalOrderItemWiAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId</pre>
+	* @see BitemporalOrderItem#getBitemporalOrderWithInterface() reverse relationship BitemporalOrderItem.getBitemporalOrderWithInterface()
+	* @return items without interfaces
+	*/
+	public BitemporalOrderItemList getItemsWithoutInterfaces()
+	{
+		BitemporalOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.itemsWithoutInterfaces().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.itemsWithoutInterfaces().zGetRelationshipMultiExtractor(), this);
+					_result = new BitemporalOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderItemList) _data.getItemsWithoutInterfaces();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.itemsWithoutInterfaces().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setItemsWithoutInterfaces(BitemporalOrderItemList itemsWithoutInterfaces)
+	{
+		BitemporalOrderItemList _itemsWithoutInterfaces = (BitemporalOrderItemList) itemsWithoutInterfaces;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setItemsWithoutInterfaces(_itemsWithoutInterfaces);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatusWi.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatusWi#getOrder() reverse relationship BitemporalOrderStatusWi.getOrder()
+	* @return The order status
+	*/
+	public BitemporalOrderStatusWi getOrderStatus()
+	{
+		BitemporalOrderStatusWiImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderStatusWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderStatusWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.orderStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BitemporalOrderStatusWiImpl) _data.getOrderStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.orderStatus().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderStatusWiFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatusWiImpl) _data.getOrderStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(BitemporalOrderStatusWi orderStatus)
+	{
+		BitemporalOrderStatusWiImpl _orderStatus = (BitemporalOrderStatusWiImpl) orderStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus();
+			_data.setOrderStatus(_orderStatus);
+			if (_orderStatus != null)
+			{
+				_orderStatus.setOrderId(_data.getOrderId());
+				_orderStatus.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			BitemporalOrderStatusWiImpl _existing = (BitemporalOrderStatusWiImpl)this.getOrderStatus();
+			if (_orderStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_orderStatus != null)
+				{
+					_orderStatus.setOrderId(_data.getOrderId());
+					_orderStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatus#getBitemporalOrderWithInterface() reverse relationship BitemporalOrderStatus.getBitemporalOrderWithInterface()
+	* @return The order status without interfaces
+	*/
+	public BitemporalOrderStatus getOrderStatusWithoutInterfaces()
+	{
+		BitemporalOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatusWithoutInterfaces,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderStatus) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.orderStatusWithoutInterfaces().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.orderStatusWithoutInterfaces().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatus) _data.getOrderStatusWithoutInterfaces();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.orderStatusWithoutInterfaces().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatusWithoutInterfaces(BitemporalOrderStatus orderStatusWithoutInterfaces)
+	{
+		BitemporalOrderStatus _orderStatusWithoutInterfaces = (BitemporalOrderStatus) orderStatusWithoutInterfaces;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderStatusWithoutInterfaces(_orderStatusWithoutInterfaces);
+			if (_orderStatusWithoutInterfaces == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_orderStatusWithoutInterfaces.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_orderStatusWithoutInterfaces == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_orderStatusWithoutInterfaces.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderClassificationWi.orderId = this.orderId</pre>
+	* @see BitemporalOrderClassificationWi#getOrder() reverse relationship BitemporalOrderClassificationWi.getOrder()
+	* @return classifications
+	*/
+	public BitemporalOrderClassificationWiList getClassifications()
+	{
+		BitemporalOrderClassificationWiListImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.classifications().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.classifications().zGetRelationshipMultiExtractor(), this);
+					_result = new BitemporalOrderClassificationWiListImpl(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderClassificationWiListImpl) _data.getClassifications();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderWiFinder.classifications().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalOrderClassificationWiListImpl(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setClassifications(BitemporalOrderClassificationWiList classifications)
+	{
+		BitemporalOrderClassificationWiListImpl _classifications = (BitemporalOrderClassificationWiListImpl) classifications;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setClassifications(_classifications);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderClassificationWi.orderId = this.orderId and
+	BitemporalOrderClassificationWi.classificationId = {classificationId}</pre>
+	* @return The classification by id
+	*/
+	public BitemporalOrderClassificationWi getClassificationById(int classificationId)
+	{
+		BitemporalOrderClassificationWiImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderWiData _data = (BitemporalOrderWiData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				_result = (BitemporalOrderClassificationWiImpl) BitemporalOrderClassificationWiFinder.findByPrimaryKey(_data.getOrderId(),
+					classificationId,
+					this.getBusinessDate(),
+					this.getProcessingDate());
+			}
+		}
+
+		return _result;
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalOrderWiFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalOrderWiData.BitemporalOrderWiDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalOrderWiData data = (BitemporalOrderWiData) BitemporalOrderWiFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalOrderWi has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalOrderWiData( BitemporalOrderWiData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalOrderWiData( BitemporalOrderWiData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalOrderWiFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalOrderWiFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderWiImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalOrderWiImplAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderWiImplAbstract from = (BitemporalOrderWiImplAbstract) f;
+		BitemporalOrderWiData newData = from.zSynchronizedGetData();
+		this.setDescription(newData.getDescription());
+		this.setOrderDate(newData.getOrderDate());
+		this.setState(newData.getState());
+		this.setTrackingId(newData.getTrackingId());
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNull();
+		}
+		else
+		{
+			this.setUserId(newData.getUserId());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderWiData _newData = (BitemporalOrderWiData) _data;
+		BitemporalOrderItemWiListImpl items =
+		(BitemporalOrderItemWiListImpl) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderStatusWiImpl orderStatus =
+			(BitemporalOrderStatusWiImpl) this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			BitemporalOrderStatusWiImpl orderStatus =
+			(BitemporalOrderStatusWiImpl) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				BitemporalOrderStatusWiImpl _existing =
+				(BitemporalOrderStatusWiImpl) this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+				}
+				else
+				{
+					_existing.copyNonPrimaryKeyAttributesUntilFrom( orderStatus, exclusiveUntil );
+				}
+			}
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderWiData _newData = (BitemporalOrderWiData) _data;
+		BitemporalOrderItemWiListImpl items =
+		(BitemporalOrderItemWiListImpl) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+
+		BitemporalOrderStatusWiImpl orderStatus =
+		(BitemporalOrderStatusWiImpl) _newData.getOrderStatus();
+		if (orderStatus != null)
+		{
+			orderStatus.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalOrderWiImplAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderWiImplAbstract from = (BitemporalOrderWiImplAbstract)f;
+		BitemporalOrderWiData newData = from.zSynchronizedGetData();
+		this.setDescriptionUntil(newData.getDescription(), exclusiveUntil);
+		this.setOrderDateUntil(newData.getOrderDate(), exclusiveUntil);
+		this.setStateUntil(newData.getState(), exclusiveUntil);
+		this.setTrackingIdUntil(newData.getTrackingId(), exclusiveUntil);
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setUserIdUntil(newData.getUserId(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalOrderWiData newData = (BitemporalOrderWiData) d;
+		BitemporalOrderWiData data = (BitemporalOrderWiData) nd;
+		if (BitemporalOrderWiFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderWiFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderWiFinder.orderDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderWiFinder.orderId(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderWiFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderWiFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderWiFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderWiFinder.description(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderWiFinder.orderDate(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderWiFinder.orderId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderWiFinder.state(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderWiFinder.trackingId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderWiFinder.userId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		((BitemporalOrderItemWiListImpl)
+		this.getItems()).cascadeTerminateAll();
+		{
+			BitemporalOrderStatusWiImpl related = (BitemporalOrderStatusWiImpl)this.getOrderStatus();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		((BitemporalOrderItemWiListImpl)
+		this.getItems()).cascadeTerminateAllUntil(exclusiveUntil);
+		{
+			BitemporalOrderStatusWiImpl related = (BitemporalOrderStatusWiImpl)this.getOrderStatus();
+			if (related != null)
+			related.cascadeTerminateUntil(exclusiveUntil);
+		}
+
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderWiData data = ((BitemporalOrderWiData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderWiData data = ((BitemporalOrderWiData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderWiData data = ((BitemporalOrderWiData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalOrderWiFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderWiData localData = (BitemporalOrderWiData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderItemWiImpl item = (BitemporalOrderItemWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(BitemporalOrderWiImplAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderItemWiImpl item = (BitemporalOrderItemWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderStatusWiImpl item = (BitemporalOrderStatusWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(BitemporalOrderWiImplAbstract.this);
+		}
+	}
+
+	protected class OrderStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderStatusWiImpl item = (BitemporalOrderStatusWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
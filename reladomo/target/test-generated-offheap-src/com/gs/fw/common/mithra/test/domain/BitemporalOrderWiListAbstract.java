@@ -0,0 +1,23 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface BitemporalOrderWiListAbstract extends List<BitemporalOrderWi>
+{
+	public BitemporalOrderItemWiList getItems();
+	public BitemporalOrderItemList getItemsWithoutInterfaces();
+	public BitemporalOrderStatusWiList getOrderStatus();
+	public BitemporalOrderStatusList getOrderStatusWithoutInterfaces();
+	public BitemporalOrderClassificationWiList getClassifications();
+	public BitemporalOrderClassificationWiList getClassificationByIds(int classificationId);
+	public void setBusinessDateFrom(Timestamp newValue);
+	public void setBusinessDateTo(Timestamp newValue);
+	public void setDescription(String newValue);
+	public void setOrderDate(Timestamp newValue);
+	public void setOrderId(int newValue);
+	public void setProcessingDateFrom(Timestamp newValue);
+	public void setProcessingDateTo(Timestamp newValue);
+	public void setState(String newValue);
+	public void setTrackingId(String newValue);
+	public void setUserId(int newValue);
+}
@@ -0,0 +1,260 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderWiListImplAbstract extends DelegatingList<BitemporalOrderWi> implements MithraDatedTransactionalList<BitemporalOrderWi>
+{
+	public BitemporalOrderWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderWi[] elements()
+	{
+		BitemporalOrderWi[] result = new BitemporalOrderWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderWiListImpl intersection(BitemporalOrderWiListImpl another)
+	{
+		return (BitemporalOrderWiListImpl)super.intersection(another);
+	}
+
+	public BitemporalOrderWiImpl getBitemporalOrderWiAt(int index)
+	{
+		return (BitemporalOrderWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItemWi.orderId = this.orderId</pre>
+	* @see BitemporalOrderItemWi#getOrder() reverse relationship BitemporalOrderItemWi.getOrder()
+	* @return items
+	*/
+	public BitemporalOrderItemWiList getItems()
+	{
+		return (BitemporalOrderItemWiList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderWiFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId</pre>
+	* @see BitemporalOrderItem#getBitemporalOrderWithInterface() reverse relationship BitemporalOrderItem.getBitemporalOrderWithInterface()
+	* @return items without interfaces
+	*/
+	public BitemporalOrderItemList getItemsWithoutInterfaces()
+	{
+		return (BitemporalOrderItemList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderWiFinder.itemsWithoutInterfaces());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatusWi.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatusWi#getOrder() reverse relationship BitemporalOrderStatusWi.getOrder()
+	* @return The order status
+	*/
+	public BitemporalOrderStatusWiList getOrderStatus()
+	{
+		return (BitemporalOrderStatusWiList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderWiFinder.orderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatus#getBitemporalOrderWithInterface() reverse relationship BitemporalOrderStatus.getBitemporalOrderWithInterface()
+	* @return The order status without interfaces
+	*/
+	public BitemporalOrderStatusList getOrderStatusWithoutInterfaces()
+	{
+		return (BitemporalOrderStatusList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderWiFinder.orderStatusWithoutInterfaces());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderClassificationWi.orderId = this.orderId</pre>
+	* @see BitemporalOrderClassificationWi#getOrder() reverse relationship BitemporalOrderClassificationWi.getOrder()
+	* @return classifications
+	*/
+	public BitemporalOrderClassificationWiList getClassifications()
+	{
+		return (BitemporalOrderClassificationWiList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderWiFinder.classifications());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderClassificationWi.orderId = this.orderId and
+	BitemporalOrderClassificationWi.classificationId = {classificationId}</pre>
+	* @return The classification by id
+	*/
+	public BitemporalOrderClassificationWiList getClassificationByIds(int classificationId)
+	{
+		return (BitemporalOrderClassificationWiList) this.zGetDelegated().resolveRelationship(this, BitemporalOrderWiFinder.classificationById(classificationId));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderWiFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderWiListImpl getNonPersistentCopy()
+	{
+		BitemporalOrderWiListImpl result = new BitemporalOrderWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderWiListImpl asAdhoc()
+	{
+		return (BitemporalOrderWiListImpl) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalOrderWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderWiListImpl merge(MithraTransactionalList<BitemporalOrderWi> incoming, TopLevelMergeOptions<BitemporalOrderWi> mergeOptions)
+	{
+		return (BitemporalOrderWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderWiListImpl getDetachedCopy()
+	{
+		BitemporalOrderWiListImpl result = new BitemporalOrderWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderWiFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BitemporalOrderWiFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(BitemporalOrderWiFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(BitemporalOrderWiFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(BitemporalOrderWiFinder.trackingId(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderWiFinder.processingDateTo(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(BitemporalOrderWiFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
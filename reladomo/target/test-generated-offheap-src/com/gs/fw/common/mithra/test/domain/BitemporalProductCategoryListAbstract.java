@@ -0,0 +1,175 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalProductCategoryListAbstract extends DelegatingList<BitemporalProductCategory> implements MithraDatedTransactionalList<BitemporalProductCategory>
+{
+	public BitemporalProductCategoryListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalProductCategoryListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalProductCategoryListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalProductCategoryListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalProductCategory[] elements()
+	{
+		BitemporalProductCategory[] result = new BitemporalProductCategory[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalProductCategoryList intersection(BitemporalProductCategoryList another)
+	{
+		return (BitemporalProductCategoryList)super.intersection(another);
+	}
+
+	public BitemporalProductCategory getBitemporalProductCategoryAt(int index)
+	{
+		return (BitemporalProductCategory)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalProductCategoryFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalProductCategoryList getNonPersistentCopy()
+	{
+		BitemporalProductCategoryList result = new BitemporalProductCategoryList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalProductCategoryList asAdhoc()
+	{
+		return (BitemporalProductCategoryList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalProductCategory> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalProductCategoryList merge(MithraTransactionalList<BitemporalProductCategory> incoming, TopLevelMergeOptions<BitemporalProductCategory> mergeOptions)
+	{
+		return (BitemporalProductCategoryList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalProductCategoryList getDetachedCopy()
+	{
+		BitemporalProductCategoryList result = new BitemporalProductCategoryList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BitemporalProductCategoryFinder.id(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BitemporalProductCategoryFinder.productId(), newValue);
+	}
+
+	public void setCategory(String newValue)
+	{
+		zSetString(BitemporalProductCategoryFinder.category(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalProductCategoryFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalProductCategoryFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalProductCategoryFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalProductCategoryFinder.businessDateTo(), newValue);
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(BitemporalProductCategoryFinder.productId());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,856 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalWithDateJoinAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalWithDateJoinFinder.businessDate()
+	,
+		BitemporalWithDateJoinFinder.processingDate()
+	, BitemporalWithDateJoinFinder.zGetDoubleAttributes(),BitemporalWithDateJoinFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalWithDateJoin.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forabcdBitemporalWithDateJoin = new AbcdBitemporalWithDateJoinRhs();
+	private static final class AbcdBitemporalWithDateJoinRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalWithDateJoinFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalWithDateJoinFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalWithDateJoin _castedSrcObject = (BitemporalWithDateJoin) _srcObject;
+			BitemporalWithDateJoinData _castedSrcData = (BitemporalWithDateJoinData) _srcData;
+			BitemporalWithDateJoinData _castedTargetData = (BitemporalWithDateJoinData) _targetData;
+			if (_castedSrcData.getInvestmentId() == _castedTargetData.getInvestmentId() && ((_castedTargetData.getGsEntity() != null && _castedTargetData.getGsEntity().equals("ABCD"))))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalWithDateJoinData _castedSrcData = (BitemporalWithDateJoinData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getInvestmentId()),HashUtil.hash("ABCD"));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalWithDateJoinData _castedSrcData = (BitemporalWithDateJoinData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getInvestmentId()),HashUtil.offHeapHash("ABCD"));
+		}
+	}
+
+	public BitemporalWithDateJoinAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalWithDateJoinFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalWithDateJoinFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalWithDateJoinAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalWithDateJoinData zSynchronizedGetData()
+	{
+		return (BitemporalWithDateJoinData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalWithDateJoinFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalWithDateJoinFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public BitemporalWithDateJoin zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalWithDateJoin original = (BitemporalWithDateJoin) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalWithDateJoin copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalWithDateJoin) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalWithDateJoin copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalWithDateJoin) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalWithDateJoinFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalWithDateJoin getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalWithDateJoinAbstract result = (BitemporalWithDateJoinAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalWithDateJoin ) result;
+	}
+
+	public BitemporalWithDateJoin zFindOriginal()
+	{
+		BitemporalWithDateJoinData data = (BitemporalWithDateJoinData) this.currentData;
+		Operation op;
+		op = BitemporalWithDateJoinFinder.investmentId().eq(data.getInvestmentId());
+		op = op.and(BitemporalWithDateJoinFinder.gsEntity().eq(data.getGsEntity()));
+		op = op.and(BitemporalWithDateJoinFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalWithDateJoinFinder.processingDate().eq(this.getProcessingDate()));
+		return BitemporalWithDateJoinFinder.findOne(op);
+	}
+
+	public BitemporalWithDateJoin getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalWithDateJoinAbstract result = (BitemporalWithDateJoinAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalWithDateJoin ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalWithDateJoin copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalWithDateJoin) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalWithDateJoin copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalWithDateJoin) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalWithDateJoinData data = (BitemporalWithDateJoinData) this.currentData;
+			Operation op = BitemporalWithDateJoinFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalWithDateJoinFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalWithDateJoinFinder.gsEntity().eq(data.getGsEntity()));
+			op = op.and(BitemporalWithDateJoinFinder.investmentId().eq(data.getInvestmentId()));
+			return BitemporalWithDateJoinFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalWithDateJoinData data = (BitemporalWithDateJoinData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalWithDateJoinFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalWithDateJoinData data = (BitemporalWithDateJoinData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isGsEntityNull()
+	{
+		return this.zSynchronizedGetData().isGsEntityNull();
+	}
+
+	public boolean isInvestmentIdNull()
+	{
+		return this.zSynchronizedGetData().isInvestmentIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalWithDateJoinFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalWithDateJoinFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getGsEntity()
+	{
+		return this.zSynchronizedGetData().getGsEntity();
+	}
+
+	public void setGsEntity(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 5)
+		{
+			throw new MithraBusinessException("Attribute 'gsEntity' cannot exceed maximum length of 5: " + newValue);
+		}
+
+		zSetString(BitemporalWithDateJoinFinder.gsEntity(), newValue, true );
+	}
+
+	public void setGsEntityUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 5)
+		{
+			throw new MithraBusinessException("Attribute 'gsEntity' cannot exceed maximum length of 5: " + newValue);
+		}
+
+		zSetString(BitemporalWithDateJoinFinder.gsEntity(), newValue, true , exclusiveUntil);
+	}
+
+	public int getInvestmentId()
+	{
+		return this.zSynchronizedGetData().getInvestmentId();
+	}
+
+	public void setInvestmentId(int newValue)
+	{
+		zSetInteger(BitemporalWithDateJoinFinder.investmentId(), newValue, true ,false);
+	}
+
+	public void setInvestmentIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalWithDateJoinFinder.investmentId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalWithDateJoinFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalWithDateJoinFinder.processingDateTo(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalWithDateJoinData data2 = (BitemporalWithDateJoinData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalWithDateJoinFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalWithDateJoinData _newData = (BitemporalWithDateJoinData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalWithDateJoinData _newData = (BitemporalWithDateJoinData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalWithDateJoinData _newData = (BitemporalWithDateJoinData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	NontemporalWithDateJoin.entity = this.gsEntity
+	and NontemporalWithDateJoin.businessDate = this.businessDate</pre>
+	* @see NontemporalWithDateJoin#getBitemporalWithDateJoin() reverse relationship NontemporalWithDateJoin.getBitemporalWithDateJoin()
+	* @return The nontemporal with date join
+	*/
+	public NontemporalWithDateJoin getNontemporalWithDateJoin()
+	{
+		NontemporalWithDateJoin _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalWithDateJoinData _data = (BitemporalWithDateJoinData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalWithDateJoinFinder.nontemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalWithDateJoinFinder.nontemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+					_result = NontemporalWithDateJoinFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (NontemporalWithDateJoin) _data.getNontemporalWithDateJoin();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalWithDateJoinFinder.nontemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = NontemporalWithDateJoinFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setNontemporalWithDateJoin(NontemporalWithDateJoin nontemporalWithDateJoin)
+	{
+		NontemporalWithDateJoin _nontemporalWithDateJoin = (NontemporalWithDateJoin) nontemporalWithDateJoin;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalWithDateJoinData _data = (BitemporalWithDateJoinData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setNontemporalWithDateJoin(_nontemporalWithDateJoin);
+			if (_nontemporalWithDateJoin == null)
+			{
+				this.setGsEntity(null);
+			}
+			else
+			{
+				this.setGsEntity(
+					_nontemporalWithDateJoin.getEntity());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_nontemporalWithDateJoin == null)
+			{
+				this.setGsEntity(null);
+			}
+			else
+			{
+				this.setGsEntity(
+					_nontemporalWithDateJoin.getEntity());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalWithDateJoin.investmentId = this.investmentId and
+	BitemporalWithDateJoin.gsEntity = "ABCD"</pre>
+	* @return The abcd bitemporal with date join
+	*/
+	public BitemporalWithDateJoin getAbcdBitemporalWithDateJoin()
+	{
+		BitemporalWithDateJoin _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalWithDateJoinData _data = (BitemporalWithDateJoinData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalWithDateJoinFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forabcdBitemporalWithDateJoin,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalWithDateJoin) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalWithDateJoinFinder.abcdBitemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalWithDateJoinFinder.abcdBitemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalWithDateJoinFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalWithDateJoin) _data.getAbcdBitemporalWithDateJoin();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalWithDateJoinFinder.abcdBitemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalWithDateJoinFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setAbcdBitemporalWithDateJoin(BitemporalWithDateJoin abcdBitemporalWithDateJoin)
+	{
+		BitemporalWithDateJoin _abcdBitemporalWithDateJoin = (BitemporalWithDateJoin) abcdBitemporalWithDateJoin;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalWithDateJoinData _data = (BitemporalWithDateJoinData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAbcdBitemporalWithDateJoin(_abcdBitemporalWithDateJoin);
+			if (_abcdBitemporalWithDateJoin == null)
+			{
+				this.setInvestmentId(0);
+			}
+			else
+			{
+				this.setInvestmentId(
+					_abcdBitemporalWithDateJoin.getInvestmentId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_abcdBitemporalWithDateJoin == null)
+			{
+				this.setInvestmentId(0);
+			}
+			else
+			{
+				this.setInvestmentId(
+					_abcdBitemporalWithDateJoin.getInvestmentId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.investmentId = ProcessingTemporalWithDateJoin.investmentId and this.gsEntity = ProcessingTemporalWithDateJoin.entity and this.businessDate = ProcessingTemporalWithDateJoin.businessDate and ProcessingTemporalWithDateJoin.active =  1 )</pre>
+	* @see ProcessingTemporalWithDateJoin#getBitemporalWithDateJoin() reverse relationship ProcessingTemporalWithDateJoin.getBitemporalWithDateJoin()
+	* @return The processing temporal with date join
+	*/
+	public ProcessingTemporalWithDateJoin getProcessingTemporalWithDateJoin()
+	{
+		ProcessingTemporalWithDateJoin _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalWithDateJoinData _data = (BitemporalWithDateJoinData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalWithDateJoinFinder.processingTemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalWithDateJoinFinder.processingTemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+					_result = ProcessingTemporalWithDateJoinFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProcessingTemporalWithDateJoin) _data.getProcessingTemporalWithDateJoin();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalWithDateJoinFinder.processingTemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProcessingTemporalWithDateJoinFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProcessingTemporalWithDateJoin(ProcessingTemporalWithDateJoin processingTemporalWithDateJoin)
+	{
+		ProcessingTemporalWithDateJoin _processingTemporalWithDateJoin = (ProcessingTemporalWithDateJoin) processingTemporalWithDateJoin;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalWithDateJoinData _data = (BitemporalWithDateJoinData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProcessingTemporalWithDateJoin(_processingTemporalWithDateJoin);
+			if (_processingTemporalWithDateJoin == null)
+			{
+				this.setInvestmentId(0);
+				this.setGsEntity(null);
+			}
+			else
+			{
+				this.setInvestmentId(
+					_processingTemporalWithDateJoin.getInvestmentId());
+				this.setGsEntity(
+					_processingTemporalWithDateJoin.getEntity());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_processingTemporalWithDateJoin == null)
+			{
+				this.setInvestmentId(0);
+				this.setGsEntity(null);
+			}
+			else
+			{
+				this.setInvestmentId(
+					_processingTemporalWithDateJoin.getInvestmentId());
+				this.setGsEntity(
+					_processingTemporalWithDateJoin.getEntity());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalWithDateJoinFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalWithDateJoinData.BitemporalWithDateJoinDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalWithDateJoinData data = (BitemporalWithDateJoinData) BitemporalWithDateJoinFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalWithDateJoin has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalWithDateJoinData( BitemporalWithDateJoinData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalWithDateJoinData( BitemporalWithDateJoinData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalWithDateJoinFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalWithDateJoinFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalWithDateJoin getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalWithDateJoinAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalWithDateJoinAbstract from = (BitemporalWithDateJoinAbstract) f;
+		BitemporalWithDateJoinData newData = from.zSynchronizedGetData();
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalWithDateJoinData _newData = (BitemporalWithDateJoinData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalWithDateJoinData _newData = (BitemporalWithDateJoinData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalWithDateJoinAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalWithDateJoinAbstract from = (BitemporalWithDateJoinAbstract)f;
+		BitemporalWithDateJoinData newData = from.zSynchronizedGetData();
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalWithDateJoinData newData = (BitemporalWithDateJoinData) d;
+		BitemporalWithDateJoinData data = (BitemporalWithDateJoinData) nd;
+		if (BitemporalWithDateJoinFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalWithDateJoinFinder.gsEntity(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalWithDateJoinFinder.investmentId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalWithDateJoinFinder.gsEntity(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalWithDateJoinFinder.investmentId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalWithDateJoinData data = ((BitemporalWithDateJoinData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalWithDateJoinData data = ((BitemporalWithDateJoinData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalWithDateJoinData data = ((BitemporalWithDateJoinData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalWithDateJoinFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), BitemporalWithDateJoinFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalWithDateJoinData localData = (BitemporalWithDateJoinData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
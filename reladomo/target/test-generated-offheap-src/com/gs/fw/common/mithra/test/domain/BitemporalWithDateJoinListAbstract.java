@@ -0,0 +1,199 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalWithDateJoinListAbstract extends DelegatingList<BitemporalWithDateJoin> implements MithraDatedTransactionalList<BitemporalWithDateJoin>
+{
+	public BitemporalWithDateJoinListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalWithDateJoinListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalWithDateJoinListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalWithDateJoinListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalWithDateJoin[] elements()
+	{
+		BitemporalWithDateJoin[] result = new BitemporalWithDateJoin[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalWithDateJoinList intersection(BitemporalWithDateJoinList another)
+	{
+		return (BitemporalWithDateJoinList)super.intersection(another);
+	}
+
+	public BitemporalWithDateJoin getBitemporalWithDateJoinAt(int index)
+	{
+		return (BitemporalWithDateJoin)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	NontemporalWithDateJoin.entity = this.gsEntity
+	and NontemporalWithDateJoin.businessDate = this.businessDate</pre>
+	* @see NontemporalWithDateJoin#getBitemporalWithDateJoin() reverse relationship NontemporalWithDateJoin.getBitemporalWithDateJoin()
+	* @return The nontemporal with date join
+	*/
+	public NontemporalWithDateJoinList getNontemporalWithDateJoins()
+	{
+		return (NontemporalWithDateJoinList) this.zGetDelegated().resolveRelationship(this, BitemporalWithDateJoinFinder.nontemporalWithDateJoin());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalWithDateJoin.investmentId = this.investmentId and
+	BitemporalWithDateJoin.gsEntity = "ABCD"</pre>
+	* @return The abcd bitemporal with date join
+	*/
+	public BitemporalWithDateJoinList getAbcdBitemporalWithDateJoins()
+	{
+		return (BitemporalWithDateJoinList) this.zGetDelegated().resolveRelationship(this, BitemporalWithDateJoinFinder.abcdBitemporalWithDateJoin());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.investmentId = ProcessingTemporalWithDateJoin.investmentId and this.gsEntity = ProcessingTemporalWithDateJoin.entity and this.businessDate = ProcessingTemporalWithDateJoin.businessDate and ProcessingTemporalWithDateJoin.active =  1 )</pre>
+	* @see ProcessingTemporalWithDateJoin#getBitemporalWithDateJoin() reverse relationship ProcessingTemporalWithDateJoin.getBitemporalWithDateJoin()
+	* @return The processing temporal with date join
+	*/
+	public ProcessingTemporalWithDateJoinList getProcessingTemporalWithDateJoins()
+	{
+		return (ProcessingTemporalWithDateJoinList) this.zGetDelegated().resolveRelationship(this, BitemporalWithDateJoinFinder.processingTemporalWithDateJoin());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalWithDateJoinFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalWithDateJoinList getNonPersistentCopy()
+	{
+		BitemporalWithDateJoinList result = new BitemporalWithDateJoinList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalWithDateJoinList asAdhoc()
+	{
+		return (BitemporalWithDateJoinList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BitemporalWithDateJoin> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BitemporalWithDateJoinList merge(MithraTransactionalList<BitemporalWithDateJoin> incoming, TopLevelMergeOptions<BitemporalWithDateJoin> mergeOptions)
+	{
+		return (BitemporalWithDateJoinList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalWithDateJoinList getDetachedCopy()
+	{
+		BitemporalWithDateJoinList result = new BitemporalWithDateJoinList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setInvestmentId(int newValue)
+	{
+		zSetInteger(BitemporalWithDateJoinFinder.investmentId(), newValue);
+	}
+
+	public void setGsEntity(String newValue)
+	{
+		zSetString(BitemporalWithDateJoinFinder.gsEntity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalWithDateJoinFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalWithDateJoinFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalWithDateJoinFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalWithDateJoinFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
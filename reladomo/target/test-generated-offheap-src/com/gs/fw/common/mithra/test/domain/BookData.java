@@ -0,0 +1,590 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BookData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private String author;
+	private String description;
+	private int inventoryId;
+	private int inventoryLevel;
+	private int manufacturerId;
+	private int numberOfPages;
+	private double unitPrice;
+	public boolean isAuthorNull()
+	{
+		return this.getAuthor() == null;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isInventoryIdNull()
+	{
+		return false;
+	}
+
+	public boolean isManufacturerIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isInventoryLevelNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isNumberOfPagesNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isUnitPriceNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.author);
+		out.writeObject(this.description);
+		out.writeInt(this.inventoryId);
+		out.writeInt(this.inventoryLevel);
+		out.writeInt(this.manufacturerId);
+		out.writeInt(this.numberOfPages);
+		out.writeDouble(this.unitPrice);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getAuthor()
+	{
+		return this.author;
+	}
+
+	public int zGetAuthorAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(author);
+	}
+
+	public void setAuthor(String value)
+	{
+		this.author = StringPool.getInstance().getOrAddToCache(value, BookFinder.isFullCache());
+	}
+
+	public void setAuthorNull()
+	{
+		this.setAuthor(null);
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, BookFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public int getInventoryId()
+	{
+		return this.inventoryId;
+	}
+
+	public void setInventoryId(int value)
+	{
+		this.inventoryId = value;
+	}
+
+	public void setInventoryIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getInventoryLevel()
+	{
+		return this.inventoryLevel;
+	}
+
+	public void setInventoryLevel(int value)
+	{
+		this.inventoryLevel = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getManufacturerId()
+	{
+		return this.manufacturerId;
+	}
+
+	public void setManufacturerId(int value)
+	{
+		this.manufacturerId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getNumberOfPages()
+	{
+		return this.numberOfPages;
+	}
+
+	public void setNumberOfPages(int value)
+	{
+		this.numberOfPages = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public double getUnitPrice()
+	{
+		return this.unitPrice;
+	}
+
+	public void setUnitPrice(double value)
+	{
+		this.unitPrice = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public void setManufacturerIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setInventoryLevelNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setNumberOfPagesNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setUnitPriceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(BookData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.author = this.author;
+		copy.description = this.description;
+		copy.inventoryId = this.inventoryId;
+		copy.inventoryLevel = this.inventoryLevel;
+		copy.manufacturerId = this.manufacturerId;
+		copy.numberOfPages = this.numberOfPages;
+		copy.unitPrice = this.unitPrice;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[6];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.author = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BookFinder.isFullCache());
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BookFinder.isFullCache());
+		this.inventoryId = in.readInt();
+		this.inventoryLevel = in.readInt();
+		this.manufacturerId = in.readInt();
+		this.numberOfPages = in.readInt();
+		this.unitPrice = in.readDouble();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final BookData otherData = (BookData) other;
+		if (getInventoryId() != otherData.getInventoryId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.inventoryId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.inventoryId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getManufacturer()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setManufacturer(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public Object getSuppliersWithSpecificLocation()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[5];
+		}
+
+		return null;
+	}
+
+	public void setSuppliersWithSpecificLocation(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[5] = related;
+	}
+
+	public Object getSuppliersWithSpecificId()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[4];
+		}
+
+		return null;
+	}
+
+	public void setSuppliersWithSpecificId(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[4] = related;
+	}
+
+	public Object getSupplierInventoryItemWithSpecificId()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setSupplierInventoryItemWithSpecificId(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getSuppliersSpecificIdAndLocation()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[3];
+		}
+
+		return null;
+	}
+
+	public void setSuppliersSpecificIdAndLocation(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[3] = related;
+	}
+
+	public Object getSuppliers()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setSuppliers(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final BookData bookData = (BookData) newData;
+		this.setAuthor(bookData.getAuthor());
+		this.setDescription(bookData.getDescription());
+		this.setInventoryLevel(bookData.getInventoryLevel());
+		if (bookData.isInventoryLevelNull()) this.setInventoryLevelNull();
+		this.setManufacturerId(bookData.getManufacturerId());
+		if (bookData.isManufacturerIdNull()) this.setManufacturerIdNull();
+		this.setNumberOfPages(bookData.getNumberOfPages());
+		if (bookData.isNumberOfPagesNull()) this.setNumberOfPagesNull();
+		this.setUnitPrice(bookData.getUnitPrice());
+		if (bookData.isUnitPriceNull()) this.setUnitPriceNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final BookData other = (BookData) newData;
+		if (!isAuthorNull() ? !getAuthor().equals(other.getAuthor()) : !other.isAuthorNull())
+		{
+			return true;
+		}
+
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if ( isInventoryLevelNull() != other.isInventoryLevelNull() || getInventoryLevel() != other.getInventoryLevel())
+		{
+			return true;
+		}
+
+		if ( isManufacturerIdNull() != other.isManufacturerIdNull() || getManufacturerId() != other.getManufacturerId())
+		{
+			return true;
+		}
+
+		if ( isNumberOfPagesNull() != other.isNumberOfPagesNull() || getNumberOfPages() != other.getNumberOfPages())
+		{
+			return true;
+		}
+
+		if ( isUnitPriceNull() != other.isUnitPriceNull() || Math.abs(getUnitPrice() - other.getUnitPrice()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		BookData copy = new BookData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		BookData copy = new BookData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "inventoryId: "+(""+getInventoryId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.BookData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return BookFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return BookFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.BookData";
+	}
+}
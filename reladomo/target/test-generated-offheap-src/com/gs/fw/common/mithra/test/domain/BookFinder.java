@@ -0,0 +1,1475 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BookFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Book";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Book";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Book");
+	private static final BookSingleFinder<Book, Object, Book> finder = new BookSingleFinder<Book, Object, Book>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BookFinder.BookRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("inventoryId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("manufacturerId");
+		finderMethodMap.addNormalAttributeName("inventoryLevel");
+		finderMethodMap.addNormalAttributeName("numberOfPages");
+		finderMethodMap.addNormalAttributeName("author");
+		finderMethodMap.addNormalAttributeName("unitPrice");
+		finderMethodMap.addRelationshipName("manufacturer");
+		finderMethodMap.addRelationshipName("suppliersWithSpecificLocation");
+		finderMethodMap.addRelationshipName("suppliersWithSpecificId");
+		finderMethodMap.addRelationshipName("supplierInventoryItemWithSpecificId");
+		finderMethodMap.addRelationshipName("suppliersSpecificIdAndLocation");
+		finderMethodMap.addRelationshipName("suppliers");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = BookFinder.manufacturerId().constructEqualityMapper(ManufacturerFinder.manufacturerId());
+			result[1] = ManufacturerFinder.manufacturerId().constructEqualityMapper(BookFinder.manufacturerId());
+			result[2] = BookFinder.inventoryId().constructEqualityMapper(SupplierInventoryItemFinder.inventoryId());
+			result[3] = SupplierInventoryItemFinder.inventoryId().constructEqualityMapper(BookFinder.inventoryId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Book findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Book findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BookList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BookList) finder.findMany(operation);
+	}
+
+	public static BookList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BookList) finder.findManyBypassCache(operation);
+	}
+
+	private static Book findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Book) FinderUtils.findOne(found);
+	}
+
+	public static Book findByPrimaryKey(int inventoryId)
+	{
+		return finder.findByPrimaryKey(inventoryId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BookData _castedTargetData = (BookData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getInventoryId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Book zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Book) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BookRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Book, ParentOwnerType, ReturnType, ReturnListType, OwnerType> implements InventoryItemFinder<Book>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> inventoryId;
+		private StringAttribute<ParentOwnerType> description;
+		private IntegerAttribute<ParentOwnerType> manufacturerId;
+		private IntegerAttribute<ParentOwnerType> inventoryLevel;
+		private IntegerAttribute<ParentOwnerType> numberOfPages;
+		private StringAttribute<ParentOwnerType> author;
+		private DoubleAttribute<ParentOwnerType> unitPrice;
+		private BookManufacturerFinderSubclass<ParentOwnerType> manufacturer;
+		private BookSuppliersWithSpecificLocationFinderSubclass<ParentOwnerType> suppliersWithSpecificLocation;
+		private BookSuppliersWithSpecificIdFinderSubclass<ParentOwnerType> suppliersWithSpecificId;
+		private BookSupplierInventoryItemWithSpecificIdFinderSubclass<ParentOwnerType> supplierInventoryItemWithSpecificId;
+		private BookSuppliersSpecificIdAndLocationFinderSubclass<ParentOwnerType> suppliersSpecificIdAndLocation;
+		private BookSuppliersFinderSubclass<ParentOwnerType> suppliers;
+		public BookRelatedFinder()
+		{
+			super();
+		}
+
+		public BookRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BookFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BookFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BookFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BookFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.inventoryId();
+			attributes[1] = this.description();
+			attributes[2] = this.manufacturerId();
+			attributes[3] = this.inventoryLevel();
+			attributes[4] = this.numberOfPages();
+			attributes[5] = this.author();
+			attributes[6] = this.unitPrice();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(6);
+				relatedFinders.add(this.manufacturer());
+				relatedFinders.add(this.suppliersWithSpecificLocation());
+				relatedFinders.add(this.suppliersWithSpecificId());
+				relatedFinders.add(this.supplierInventoryItemWithSpecificId());
+				relatedFinders.add(this.suppliersSpecificIdAndLocation());
+				relatedFinders.add(this.suppliers());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Book findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BookFinder.findOne(operation, false);
+		}
+
+		public Book findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BookFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Book> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BookList((Operation) operation);
+		}
+
+		public MithraList<? extends Book> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BookList result = (BookList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Book> constructEmptyList()
+		{
+			return new BookList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1107417708;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> inventoryId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.inventoryId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("BOOK_ID","","inventoryId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BookFinder.inventoryId(), this.mapper, this.zGetValueSelector());
+				this.inventoryId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(BookFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> manufacturerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.manufacturerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("MANUFACTURER_ID","","manufacturerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BookFinder.manufacturerId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("manufacturer");
+				this.manufacturerId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> inventoryLevel()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.inventoryLevel;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("QUANTITY","","inventoryLevel",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BookFinder.inventoryLevel(), this.mapper, this.zGetValueSelector());
+				this.inventoryLevel = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> numberOfPages()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.numberOfPages;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NO_OF_PAGES","","numberOfPages",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BookFinder.numberOfPages(), this.mapper, this.zGetValueSelector());
+				this.numberOfPages = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> author()
+		{
+			StringAttribute<ParentOwnerType> result = this.author;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("AUTHOR","","author",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(BookFinder.author(), this.mapper, this.zGetValueSelector());
+				this.author = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unitPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unitPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNIT_PRICE","","unitPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(BookFinder.unitPrice(), this.mapper, this.zGetValueSelector());
+				this.unitPrice = result;
+			}
+
+			return result;
+		}
+
+		public ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<ParentOwnerType, Manufacturer, Book> manufacturer()
+		{
+			BookManufacturerFinderSubclass<ParentOwnerType> result = this.manufacturer;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BookFinder.zGetBookManufacturerReverseMapper());
+				newMapper.setToMany(false);
+				result = new BookManufacturerFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.manufacturer = result;
+			}
+
+			return result;
+		}
+
+		public SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Book> suppliersWithSpecificLocation()
+		{
+			BookSuppliersWithSpecificLocationFinderSubclass<ParentOwnerType> result = this.suppliersWithSpecificLocation;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BookFinder.zGetBookSuppliersWithSpecificLocationReverseMapper());
+				newMapper.setToMany(true);
+				result = new BookSuppliersWithSpecificLocationFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.suppliersWithSpecificLocation = result;
+			}
+
+			return result;
+		}
+
+		public SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Book> suppliersWithSpecificId()
+		{
+			BookSuppliersWithSpecificIdFinderSubclass<ParentOwnerType> result = this.suppliersWithSpecificId;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BookFinder.zGetBookSuppliersWithSpecificIdReverseMapper());
+				newMapper.setToMany(true);
+				result = new BookSuppliersWithSpecificIdFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.suppliersWithSpecificId = result;
+			}
+
+			return result;
+		}
+
+		public SupplierInventoryItemFinder.SupplierInventoryItemCollectionFinderForRelatedClasses<ParentOwnerType, SupplierInventoryItemList, Book> supplierInventoryItemWithSpecificId()
+		{
+			BookSupplierInventoryItemWithSpecificIdFinderSubclass<ParentOwnerType> result = this.supplierInventoryItemWithSpecificId;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BookFinder.zGetBookSupplierInventoryItemWithSpecificIdReverseMapper());
+				newMapper.setToMany(true);
+				result = new BookSupplierInventoryItemWithSpecificIdFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.supplierInventoryItemWithSpecificId = result;
+			}
+
+			return result;
+		}
+
+		public SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Book> suppliersSpecificIdAndLocation()
+		{
+			BookSuppliersSpecificIdAndLocationFinderSubclass<ParentOwnerType> result = this.suppliersSpecificIdAndLocation;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BookFinder.zGetBookSuppliersSpecificIdAndLocationReverseMapper());
+				newMapper.setToMany(true);
+				result = new BookSuppliersSpecificIdAndLocationFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.suppliersSpecificIdAndLocation = result;
+			}
+
+			return result;
+		}
+
+		public SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Book> suppliers()
+		{
+			BookSuppliersFinderSubclass<ParentOwnerType> result = this.suppliers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BookFinder.zGetBookSuppliersReverseMapper());
+				newMapper.setToMany(true);
+				result = new BookSuppliersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.suppliers = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BookFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BookFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BookCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BookRelatedFinder<ParentOwnerType, ReturnType, BookList, OwnerType>
+	{
+		public BookCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BookCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BookCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BookCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BookSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BookRelatedFinder<ParentOwnerType, ReturnType, BookList, OwnerType>
+	implements ToOneFinder
+	{
+		public BookSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BookSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Book other)
+		{
+			return this.inventoryId().eq(other.getInventoryId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Book findByPrimaryKey(int inventoryId)
+		{
+			Book _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(inventoryId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Book) _related;
+			if (_related == null)
+			{
+				_op = this.inventoryId().eq(inventoryId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BookSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BookSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BookSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper manufacturerReverseMapper = null;
+	public static Mapper zGetBookManufacturerReverseMapper()
+	{
+		if (manufacturerReverseMapper == null)
+		{
+			manufacturerReverseMapper = zConstructBookManufacturerReverseMapper();
+		}
+
+		return manufacturerReverseMapper;
+	}
+
+	private static Mapper manufacturerMapper = null;
+	public static Mapper zGetBookManufacturerMapper()
+	{
+		if (manufacturerMapper == null)
+		{
+			manufacturerMapper = zConstructBookManufacturerMapper();
+		}
+
+		return manufacturerMapper;
+	}
+
+	private static Mapper manufacturerPureReverseMapper = null;
+	public static Mapper zGetBookManufacturerPureReverseMapper()
+	{
+		if (manufacturerPureReverseMapper == null)
+		{
+			manufacturerPureReverseMapper = zConstructBookManufacturerPureReverseMapper();
+		}
+
+		return manufacturerPureReverseMapper;
+	}
+
+	private static Mapper zConstructBookManufacturerPureReverseMapper()
+	{
+		Mapper manufacturerMapper = BookFinder.zGetConstantJoin(0);
+		manufacturerMapper.setName("manufacturer");
+		return manufacturerMapper;
+	}
+
+	private static Mapper zConstructBookManufacturerReverseMapper()
+	{
+		Mapper manufacturerMapper = BookFinder.zGetConstantJoin(0);
+		manufacturerMapper.setName("manufacturer");
+		return manufacturerMapper;
+	}
+
+	private static Mapper zConstructBookManufacturerMapper()
+	{
+		Mapper manufacturerMapper = BookFinder.zGetConstantJoin(1);
+		manufacturerMapper.setName("manufacturer_Reverse");
+		return manufacturerMapper;
+	}
+
+	private static Mapper suppliersWithSpecificLocationReverseMapper = null;
+	public static Mapper zGetBookSuppliersWithSpecificLocationReverseMapper()
+	{
+		if (suppliersWithSpecificLocationReverseMapper == null)
+		{
+			suppliersWithSpecificLocationReverseMapper = zConstructBookSuppliersWithSpecificLocationReverseMapper();
+		}
+
+		return suppliersWithSpecificLocationReverseMapper;
+	}
+
+	private static Mapper suppliersWithSpecificLocationMapper = null;
+	public static Mapper zGetBookSuppliersWithSpecificLocationMapper()
+	{
+		if (suppliersWithSpecificLocationMapper == null)
+		{
+			suppliersWithSpecificLocationMapper = zConstructBookSuppliersWithSpecificLocationMapper();
+		}
+
+		return suppliersWithSpecificLocationMapper;
+	}
+
+	private static Mapper suppliersWithSpecificLocationPureReverseMapper = null;
+	public static Mapper zGetBookSuppliersWithSpecificLocationPureReverseMapper()
+	{
+		if (suppliersWithSpecificLocationPureReverseMapper == null)
+		{
+			suppliersWithSpecificLocationPureReverseMapper = zConstructBookSuppliersWithSpecificLocationPureReverseMapper();
+		}
+
+		return suppliersWithSpecificLocationPureReverseMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersWithSpecificLocationPureReverseMapper()
+	{
+		Mapper suppliersWithSpecificLocationc0Mapper = BookFinder.zGetConstantJoin(2);
+		Mapper suppliersWithSpecificLocationc1Mapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersWithSpecificLocationMapper = new ChainedMapper(suppliersWithSpecificLocationc0Mapper,suppliersWithSpecificLocationc1Mapper);
+		suppliersWithSpecificLocationMapper.setName("suppliersWithSpecificLocation");
+		return suppliersWithSpecificLocationMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersWithSpecificLocationReverseMapper()
+	{
+		Mapper suppliersWithSpecificLocationc0Mapper = BookFinder.zGetConstantJoin(2);
+		Mapper suppliersWithSpecificLocationc1MapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersWithSpecificLocationc1Mapper = new FilteredMapper(suppliersWithSpecificLocationc1MapperInnerMapper, null, SupplierFinder.zGetConstantOperation(0));
+		Mapper suppliersWithSpecificLocationMapper = new ChainedMapper(suppliersWithSpecificLocationc0Mapper,suppliersWithSpecificLocationc1Mapper);
+		suppliersWithSpecificLocationMapper.setName("suppliersWithSpecificLocation");
+		return suppliersWithSpecificLocationMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersWithSpecificLocationMapper()
+	{
+		Mapper suppliersWithSpecificLocationc0MapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(1);
+		Mapper suppliersWithSpecificLocationc0Mapper = new FilteredMapper(suppliersWithSpecificLocationc0MapperInnerMapper, SupplierFinder.zGetConstantOperation(0), null);
+		Mapper suppliersWithSpecificLocationc1Mapper = BookFinder.zGetConstantJoin(3);
+		Mapper suppliersWithSpecificLocationMapper = new ChainedMapper(suppliersWithSpecificLocationc0Mapper,suppliersWithSpecificLocationc1Mapper);
+		suppliersWithSpecificLocationMapper.setName("suppliersWithSpecificLocation_Reverse");
+		return suppliersWithSpecificLocationMapper;
+	}
+
+	private static Mapper suppliersWithSpecificLocationMapperFragment = null;
+	public static Mapper zGetSuppliersWithSpecificLocationMapperFragment()
+	{
+		if (suppliersWithSpecificLocationMapperFragment == null)
+		{
+			suppliersWithSpecificLocationMapperFragment = zConstructSuppliersWithSpecificLocationMapperFragment();
+		}
+
+		return suppliersWithSpecificLocationMapperFragment;
+	}
+
+	private static Mapper zConstructSuppliersWithSpecificLocationMapperFragment()
+	{
+		Mapper suppliersWithSpecificLocationMapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(1);
+		return new FilteredMapper(suppliersWithSpecificLocationMapperInnerMapper, SupplierFinder.zGetConstantOperation(0), null);
+	}
+
+	private static Mapper suppliersWithSpecificIdReverseMapper = null;
+	public static Mapper zGetBookSuppliersWithSpecificIdReverseMapper()
+	{
+		if (suppliersWithSpecificIdReverseMapper == null)
+		{
+			suppliersWithSpecificIdReverseMapper = zConstructBookSuppliersWithSpecificIdReverseMapper();
+		}
+
+		return suppliersWithSpecificIdReverseMapper;
+	}
+
+	private static Mapper suppliersWithSpecificIdMapper = null;
+	public static Mapper zGetBookSuppliersWithSpecificIdMapper()
+	{
+		if (suppliersWithSpecificIdMapper == null)
+		{
+			suppliersWithSpecificIdMapper = zConstructBookSuppliersWithSpecificIdMapper();
+		}
+
+		return suppliersWithSpecificIdMapper;
+	}
+
+	private static Mapper suppliersWithSpecificIdPureReverseMapper = null;
+	public static Mapper zGetBookSuppliersWithSpecificIdPureReverseMapper()
+	{
+		if (suppliersWithSpecificIdPureReverseMapper == null)
+		{
+			suppliersWithSpecificIdPureReverseMapper = zConstructBookSuppliersWithSpecificIdPureReverseMapper();
+		}
+
+		return suppliersWithSpecificIdPureReverseMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersWithSpecificIdPureReverseMapper()
+	{
+		Mapper suppliersWithSpecificIdc0Mapper = BookFinder.zGetConstantJoin(2);
+		Mapper suppliersWithSpecificIdc1Mapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersWithSpecificIdMapper = new ChainedMapper(suppliersWithSpecificIdc0Mapper,suppliersWithSpecificIdc1Mapper);
+		suppliersWithSpecificIdMapper.setName("suppliersWithSpecificId");
+		return suppliersWithSpecificIdMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersWithSpecificIdReverseMapper()
+	{
+		Mapper suppliersWithSpecificIdc0Mapper = BookFinder.zGetConstantJoin(2);
+		Mapper suppliersWithSpecificIdc1MapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersWithSpecificIdc1Mapper = new FilteredMapper(suppliersWithSpecificIdc1MapperInnerMapper, null, SupplierFinder.zGetConstantOperation(1));
+		Mapper suppliersWithSpecificIdMapper = new ChainedMapper(suppliersWithSpecificIdc0Mapper,suppliersWithSpecificIdc1Mapper);
+		suppliersWithSpecificIdMapper.setName("suppliersWithSpecificId");
+		return suppliersWithSpecificIdMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersWithSpecificIdMapper()
+	{
+		Mapper suppliersWithSpecificIdc0MapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(1);
+		Mapper suppliersWithSpecificIdc0Mapper = new FilteredMapper(suppliersWithSpecificIdc0MapperInnerMapper, SupplierFinder.zGetConstantOperation(1), null);
+		Mapper suppliersWithSpecificIdc1Mapper = BookFinder.zGetConstantJoin(3);
+		Mapper suppliersWithSpecificIdMapper = new ChainedMapper(suppliersWithSpecificIdc0Mapper,suppliersWithSpecificIdc1Mapper);
+		suppliersWithSpecificIdMapper.setName("suppliersWithSpecificId_Reverse");
+		return suppliersWithSpecificIdMapper;
+	}
+
+	private static Mapper suppliersWithSpecificIdMapperFragment = null;
+	public static Mapper zGetSuppliersWithSpecificIdMapperFragment()
+	{
+		if (suppliersWithSpecificIdMapperFragment == null)
+		{
+			suppliersWithSpecificIdMapperFragment = zConstructSuppliersWithSpecificIdMapperFragment();
+		}
+
+		return suppliersWithSpecificIdMapperFragment;
+	}
+
+	private static Mapper zConstructSuppliersWithSpecificIdMapperFragment()
+	{
+		Mapper suppliersWithSpecificIdMapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(1);
+		return new FilteredMapper(suppliersWithSpecificIdMapperInnerMapper, SupplierFinder.zGetConstantOperation(1), null);
+	}
+
+	private static Mapper supplierInventoryItemWithSpecificIdReverseMapper = null;
+	public static Mapper zGetBookSupplierInventoryItemWithSpecificIdReverseMapper()
+	{
+		if (supplierInventoryItemWithSpecificIdReverseMapper == null)
+		{
+			supplierInventoryItemWithSpecificIdReverseMapper = zConstructBookSupplierInventoryItemWithSpecificIdReverseMapper();
+		}
+
+		return supplierInventoryItemWithSpecificIdReverseMapper;
+	}
+
+	private static Mapper supplierInventoryItemWithSpecificIdMapper = null;
+	public static Mapper zGetBookSupplierInventoryItemWithSpecificIdMapper()
+	{
+		if (supplierInventoryItemWithSpecificIdMapper == null)
+		{
+			supplierInventoryItemWithSpecificIdMapper = zConstructBookSupplierInventoryItemWithSpecificIdMapper();
+		}
+
+		return supplierInventoryItemWithSpecificIdMapper;
+	}
+
+	private static Mapper supplierInventoryItemWithSpecificIdPureReverseMapper = null;
+	public static Mapper zGetBookSupplierInventoryItemWithSpecificIdPureReverseMapper()
+	{
+		if (supplierInventoryItemWithSpecificIdPureReverseMapper == null)
+		{
+			supplierInventoryItemWithSpecificIdPureReverseMapper = zConstructBookSupplierInventoryItemWithSpecificIdPureReverseMapper();
+		}
+
+		return supplierInventoryItemWithSpecificIdPureReverseMapper;
+	}
+
+	private static Mapper zConstructBookSupplierInventoryItemWithSpecificIdPureReverseMapper()
+	{
+		Mapper supplierInventoryItemWithSpecificIdMapper = BookFinder.zGetConstantJoin(2);
+		supplierInventoryItemWithSpecificIdMapper.setName("supplierInventoryItemWithSpecificId");
+		return supplierInventoryItemWithSpecificIdMapper;
+	}
+
+	private static Mapper zConstructBookSupplierInventoryItemWithSpecificIdReverseMapper()
+	{
+		Mapper supplierInventoryItemWithSpecificIdMapperInnerMapper = BookFinder.zGetConstantJoin(2);
+		Mapper supplierInventoryItemWithSpecificIdMapper = new FilteredMapper(supplierInventoryItemWithSpecificIdMapperInnerMapper, null, SupplierInventoryItemFinder.zGetConstantOperation(0));
+		supplierInventoryItemWithSpecificIdMapper.setName("supplierInventoryItemWithSpecificId");
+		return supplierInventoryItemWithSpecificIdMapper;
+	}
+
+	private static Mapper zConstructBookSupplierInventoryItemWithSpecificIdMapper()
+	{
+		Mapper supplierInventoryItemWithSpecificIdMapperInnerMapper = BookFinder.zGetConstantJoin(3);
+		Mapper supplierInventoryItemWithSpecificIdMapper = new FilteredMapper(supplierInventoryItemWithSpecificIdMapperInnerMapper, SupplierInventoryItemFinder.zGetConstantOperation(0), null);
+		supplierInventoryItemWithSpecificIdMapper.setName("supplierInventoryItemWithSpecificId_Reverse");
+		return supplierInventoryItemWithSpecificIdMapper;
+	}
+
+	private static Mapper suppliersSpecificIdAndLocationReverseMapper = null;
+	public static Mapper zGetBookSuppliersSpecificIdAndLocationReverseMapper()
+	{
+		if (suppliersSpecificIdAndLocationReverseMapper == null)
+		{
+			suppliersSpecificIdAndLocationReverseMapper = zConstructBookSuppliersSpecificIdAndLocationReverseMapper();
+		}
+
+		return suppliersSpecificIdAndLocationReverseMapper;
+	}
+
+	private static Mapper suppliersSpecificIdAndLocationMapper = null;
+	public static Mapper zGetBookSuppliersSpecificIdAndLocationMapper()
+	{
+		if (suppliersSpecificIdAndLocationMapper == null)
+		{
+			suppliersSpecificIdAndLocationMapper = zConstructBookSuppliersSpecificIdAndLocationMapper();
+		}
+
+		return suppliersSpecificIdAndLocationMapper;
+	}
+
+	private static Mapper suppliersSpecificIdAndLocationPureReverseMapper = null;
+	public static Mapper zGetBookSuppliersSpecificIdAndLocationPureReverseMapper()
+	{
+		if (suppliersSpecificIdAndLocationPureReverseMapper == null)
+		{
+			suppliersSpecificIdAndLocationPureReverseMapper = zConstructBookSuppliersSpecificIdAndLocationPureReverseMapper();
+		}
+
+		return suppliersSpecificIdAndLocationPureReverseMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersSpecificIdAndLocationPureReverseMapper()
+	{
+		Mapper suppliersSpecificIdAndLocationc0Mapper = BookFinder.zGetConstantJoin(2);
+		Mapper suppliersSpecificIdAndLocationc1Mapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersSpecificIdAndLocationMapper = new ChainedMapper(suppliersSpecificIdAndLocationc0Mapper,suppliersSpecificIdAndLocationc1Mapper);
+		suppliersSpecificIdAndLocationMapper.setName("suppliersSpecificIdAndLocation");
+		return suppliersSpecificIdAndLocationMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersSpecificIdAndLocationReverseMapper()
+	{
+		Mapper suppliersSpecificIdAndLocationc0Mapper = BookFinder.zGetConstantJoin(2);
+		Mapper suppliersSpecificIdAndLocationc1MapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersSpecificIdAndLocationc1Mapper = new FilteredMapper(suppliersSpecificIdAndLocationc1MapperInnerMapper, null, SupplierFinder.zGetConstantOperation(0).and(SupplierFinder.zGetConstantOperation(1)));
+		Mapper suppliersSpecificIdAndLocationMapper = new ChainedMapper(suppliersSpecificIdAndLocationc0Mapper,suppliersSpecificIdAndLocationc1Mapper);
+		suppliersSpecificIdAndLocationMapper.setName("suppliersSpecificIdAndLocation");
+		return suppliersSpecificIdAndLocationMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersSpecificIdAndLocationMapper()
+	{
+		Mapper suppliersSpecificIdAndLocationc0MapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(1);
+		Mapper suppliersSpecificIdAndLocationc0Mapper = new FilteredMapper(suppliersSpecificIdAndLocationc0MapperInnerMapper, SupplierFinder.zGetConstantOperation(0).and(SupplierFinder.zGetConstantOperation(1)), null);
+		Mapper suppliersSpecificIdAndLocationc1Mapper = BookFinder.zGetConstantJoin(3);
+		Mapper suppliersSpecificIdAndLocationMapper = new ChainedMapper(suppliersSpecificIdAndLocationc0Mapper,suppliersSpecificIdAndLocationc1Mapper);
+		suppliersSpecificIdAndLocationMapper.setName("suppliersSpecificIdAndLocation_Reverse");
+		return suppliersSpecificIdAndLocationMapper;
+	}
+
+	private static Mapper suppliersSpecificIdAndLocationMapperFragment = null;
+	public static Mapper zGetSuppliersSpecificIdAndLocationMapperFragment()
+	{
+		if (suppliersSpecificIdAndLocationMapperFragment == null)
+		{
+			suppliersSpecificIdAndLocationMapperFragment = zConstructSuppliersSpecificIdAndLocationMapperFragment();
+		}
+
+		return suppliersSpecificIdAndLocationMapperFragment;
+	}
+
+	private static Mapper zConstructSuppliersSpecificIdAndLocationMapperFragment()
+	{
+		Mapper suppliersSpecificIdAndLocationMapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(1);
+		return new FilteredMapper(suppliersSpecificIdAndLocationMapperInnerMapper, SupplierFinder.zGetConstantOperation(0).and(SupplierFinder.zGetConstantOperation(1)), null);
+	}
+
+	private static Mapper suppliersReverseMapper = null;
+	public static Mapper zGetBookSuppliersReverseMapper()
+	{
+		if (suppliersReverseMapper == null)
+		{
+			suppliersReverseMapper = zConstructBookSuppliersReverseMapper();
+		}
+
+		return suppliersReverseMapper;
+	}
+
+	private static Mapper suppliersMapper = null;
+	public static Mapper zGetBookSuppliersMapper()
+	{
+		if (suppliersMapper == null)
+		{
+			suppliersMapper = zConstructBookSuppliersMapper();
+		}
+
+		return suppliersMapper;
+	}
+
+	private static Mapper suppliersPureReverseMapper = null;
+	public static Mapper zGetBookSuppliersPureReverseMapper()
+	{
+		if (suppliersPureReverseMapper == null)
+		{
+			suppliersPureReverseMapper = zConstructBookSuppliersPureReverseMapper();
+		}
+
+		return suppliersPureReverseMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersPureReverseMapper()
+	{
+		Mapper suppliersc0Mapper = BookFinder.zGetConstantJoin(2);
+		Mapper suppliersc1Mapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersMapper = new ChainedMapper(suppliersc0Mapper,suppliersc1Mapper);
+		suppliersMapper.setName("suppliers");
+		return suppliersMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersReverseMapper()
+	{
+		Mapper suppliersc0Mapper = BookFinder.zGetConstantJoin(2);
+		Mapper suppliersc1Mapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersMapper = new ChainedMapper(suppliersc0Mapper,suppliersc1Mapper);
+		suppliersMapper.setName("suppliers");
+		return suppliersMapper;
+	}
+
+	private static Mapper zConstructBookSuppliersMapper()
+	{
+		Mapper suppliersc0Mapper = SupplierInventoryItemFinder.zGetConstantJoin(1);
+		Mapper suppliersc1Mapper = BookFinder.zGetConstantJoin(3);
+		Mapper suppliersMapper = new ChainedMapper(suppliersc0Mapper,suppliersc1Mapper);
+		suppliersMapper.setName("suppliers_Reverse");
+		return suppliersMapper;
+	}
+
+	private static Mapper suppliersMapperFragment = null;
+	public static Mapper zGetSuppliersMapperFragment()
+	{
+		if (suppliersMapperFragment == null)
+		{
+			suppliersMapperFragment = zConstructSuppliersMapperFragment();
+		}
+
+		return suppliersMapperFragment;
+	}
+
+	private static Mapper zConstructSuppliersMapperFragment()
+	{
+		return SupplierInventoryItemFinder.zGetConstantJoin(1);
+	}
+
+	/** maps to BOOK.BOOK_ID **/
+	public static IntegerAttribute<Book> inventoryId()
+	{
+		return finder.inventoryId();
+	}
+
+	/** maps to BOOK.DESCRIPTION **/
+	public static StringAttribute<Book> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to BOOK.MANUFACTURER_ID **/
+	public static IntegerAttribute<Book> manufacturerId()
+	{
+		return finder.manufacturerId();
+	}
+
+	/** maps to BOOK.QUANTITY **/
+	public static IntegerAttribute<Book> inventoryLevel()
+	{
+		return finder.inventoryLevel();
+	}
+
+	/** maps to BOOK.NO_OF_PAGES **/
+	public static IntegerAttribute<Book> numberOfPages()
+	{
+		return finder.numberOfPages();
+	}
+
+	/** maps to BOOK.AUTHOR **/
+	public static StringAttribute<Book> author()
+	{
+		return finder.author();
+	}
+
+	/** maps to BOOK.UNIT_PRICE **/
+	public static DoubleAttribute<Book> unitPrice()
+	{
+		return finder.unitPrice();
+	}
+
+	public static ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<Book, Manufacturer, Book> manufacturer()
+	{
+		return finder.manufacturer();
+	}
+
+	public static class BookManufacturerFinderSubclass<ParentOwnerType> extends ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<ParentOwnerType, Manufacturer, Book>
+	{
+		public BookManufacturerFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "manufacturer";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BookManufacturerFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Manufacturer plainValueOf(Book _obj)
+		{
+			return _obj.getManufacturer();
+		}
+
+		protected ManufacturerList plainListValueOf(Object _obj)
+		{
+			return ((BookList)_obj).getManufacturers();
+		}
+	}
+
+	public static SupplierFinder.SupplierCollectionFinderForRelatedClasses<Book, SupplierList, Book> suppliersWithSpecificLocation()
+	{
+		return finder.suppliersWithSpecificLocation();
+	}
+
+	public static class BookSuppliersWithSpecificLocationFinderSubclass<ParentOwnerType> extends SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Book>
+	{
+		public BookSuppliersWithSpecificLocationFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "suppliersWithSpecificLocation";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BookSuppliersWithSpecificLocationFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected SupplierList plainValueOf(Book _obj)
+		{
+			return _obj.getSuppliersWithSpecificLocation();
+		}
+
+		protected SupplierList plainListValueOf(Object _obj)
+		{
+			return ((BookList)_obj).getSuppliersWithSpecificLocation();
+		}
+	}
+
+	public static SupplierFinder.SupplierCollectionFinderForRelatedClasses<Book, SupplierList, Book> suppliersWithSpecificId()
+	{
+		return finder.suppliersWithSpecificId();
+	}
+
+	public static class BookSuppliersWithSpecificIdFinderSubclass<ParentOwnerType> extends SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Book>
+	{
+		public BookSuppliersWithSpecificIdFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "suppliersWithSpecificId";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BookSuppliersWithSpecificIdFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected SupplierList plainValueOf(Book _obj)
+		{
+			return _obj.getSuppliersWithSpecificId();
+		}
+
+		protected SupplierList plainListValueOf(Object _obj)
+		{
+			return ((BookList)_obj).getSuppliersWithSpecificId();
+		}
+	}
+
+	public static SupplierInventoryItemFinder.SupplierInventoryItemCollectionFinderForRelatedClasses<Book, SupplierInventoryItemList, Book> supplierInventoryItemWithSpecificId()
+	{
+		return finder.supplierInventoryItemWithSpecificId();
+	}
+
+	public static class BookSupplierInventoryItemWithSpecificIdFinderSubclass<ParentOwnerType> extends SupplierInventoryItemFinder.SupplierInventoryItemCollectionFinderForRelatedClasses<ParentOwnerType, SupplierInventoryItemList, Book>
+	{
+		public BookSupplierInventoryItemWithSpecificIdFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "supplierInventoryItemWithSpecificId";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BookSupplierInventoryItemWithSpecificIdFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected SupplierInventoryItemList plainValueOf(Book _obj)
+		{
+			return _obj.getSupplierInventoryItemWithSpecificId();
+		}
+
+		protected SupplierInventoryItemList plainListValueOf(Object _obj)
+		{
+			return ((BookList)_obj).getSupplierInventoryItemWithSpecificId();
+		}
+	}
+
+	public static SupplierFinder.SupplierCollectionFinderForRelatedClasses<Book, SupplierList, Book> suppliersSpecificIdAndLocation()
+	{
+		return finder.suppliersSpecificIdAndLocation();
+	}
+
+	public static class BookSuppliersSpecificIdAndLocationFinderSubclass<ParentOwnerType> extends SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Book>
+	{
+		public BookSuppliersSpecificIdAndLocationFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "suppliersSpecificIdAndLocation";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BookSuppliersSpecificIdAndLocationFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected SupplierList plainValueOf(Book _obj)
+		{
+			return _obj.getSuppliersSpecificIdAndLocation();
+		}
+
+		protected SupplierList plainListValueOf(Object _obj)
+		{
+			return ((BookList)_obj).getSuppliersSpecificIdAndLocation();
+		}
+	}
+
+	public static SupplierFinder.SupplierCollectionFinderForRelatedClasses<Book, SupplierList, Book> suppliers()
+	{
+		return finder.suppliers();
+	}
+
+	public static class BookSuppliersFinderSubclass<ParentOwnerType> extends SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Book>
+	{
+		public BookSuppliersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "suppliers";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BookSuppliersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected SupplierList plainValueOf(Book _obj)
+		{
+			return _obj.getSuppliers();
+		}
+
+		protected SupplierList plainListValueOf(Object _obj)
+		{
+			return ((BookList)_obj).getSuppliers();
+		}
+	}
+
+	public static Operation eq(Book other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(inventoryId());
+	}
+
+	public static BookSingleFinder<Book, Object, Book> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			inventoryId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			inventoryId()
+			, inventoryId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			manufacturerId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ManufacturerFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ManufacturerFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = unitPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Book");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,248 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BookListAbstract extends DelegatingList<Book> implements MithraTransactionalList<Book>
+{
+	public BookListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BookListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BookListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BookListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Book[] elements()
+	{
+		Book[] result = new Book[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BookList intersection(BookList another)
+	{
+		return (BookList)super.intersection(another);
+	}
+
+	public Book getBookAt(int index)
+	{
+		return (Book)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Manufacturer.manufacturerId = this.manufacturerId</pre>
+	* @return The manufacturer
+	*/
+	public ManufacturerList getManufacturers()
+	{
+		return (ManufacturerList) this.zGetDelegated().resolveRelationship(this, BookFinder.manufacturer());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId
+	and (SupplierInventoryItem.supplierId = Supplier.supplierId)
+	and Supplier.location in ("New York", "London")</pre>
+	* @return suppliers with specific location
+	*/
+	public SupplierList getSuppliersWithSpecificLocation()
+	{
+		return (SupplierList) this.zGetDelegated().resolveRelationship(this, BookFinder.suppliersWithSpecificLocation());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(SupplierInventoryItem.inventoryId = this.inventoryId
+	and (SupplierInventoryItem.supplierId = Supplier.supplierId
+	and Supplier.supplierId in (1, 2)))</pre>
+	* @return suppliers with specific id
+	*/
+	public SupplierList getSuppliersWithSpecificId()
+	{
+		return (SupplierList) this.zGetDelegated().resolveRelationship(this, BookFinder.suppliersWithSpecificId());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId
+	and (SupplierInventoryItem.supplierId in (1,2))</pre>
+	* @return supplier inventory item with specific id
+	*/
+	public SupplierInventoryItemList getSupplierInventoryItemWithSpecificId()
+	{
+		return (SupplierInventoryItemList) this.zGetDelegated().resolveRelationship(this, BookFinder.supplierInventoryItemWithSpecificId());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId
+	and (SupplierInventoryItem.supplierId = Supplier.supplierId)
+	and Supplier.location in ("New York", "London")
+	and (Supplier.supplierId in (1, 2))</pre>
+	* @return suppliers specific id and location
+	*/
+	public SupplierList getSuppliersSpecificIdAndLocation()
+	{
+		return (SupplierList) this.zGetDelegated().resolveRelationship(this, BookFinder.suppliersSpecificIdAndLocation());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId and SupplierInventoryItem.supplierId = Supplier.supplierId</pre>
+	* @return suppliers
+	*/
+	public SupplierList getSuppliers()
+	{
+		return (SupplierList) this.zGetDelegated().resolveRelationship(this, BookFinder.suppliers());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BookFinder.getMithraObjectPortal();
+	}
+
+	public BookList getNonPersistentCopy()
+	{
+		BookList result = new BookList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BookList asAdhoc()
+	{
+		return (BookList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Book> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BookList merge(MithraTransactionalList<Book> incoming, TopLevelMergeOptions<Book> mergeOptions)
+	{
+		return (BookList) super.merge(incoming, mergeOptions);
+	}
+
+	public BookList getDetachedCopy()
+	{
+		BookList result = new BookList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setInventoryId(int newValue)
+	{
+		zSetInteger(BookFinder.inventoryId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(BookFinder.description(), newValue);
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(BookFinder.manufacturerId(), newValue);
+	}
+
+	public void setInventoryLevel(int newValue)
+	{
+		zSetInteger(BookFinder.inventoryLevel(), newValue);
+	}
+
+	public void setNumberOfPages(int newValue)
+	{
+		zSetInteger(BookFinder.numberOfPages(), newValue);
+	}
+
+	public void setAuthor(String newValue)
+	{
+		zSetString(BookFinder.author(), newValue);
+	}
+
+	public void setUnitPrice(double newValue)
+	{
+		zSetDouble(BookFinder.unitPrice(), newValue);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zSetAttributeNull(BookFinder.manufacturerId());
+	}
+
+	public void setInventoryLevelNull()
+	{
+		zSetAttributeNull(BookFinder.inventoryLevel());
+	}
+
+	public void setNumberOfPagesNull()
+	{
+		zSetAttributeNull(BookFinder.numberOfPages());
+	}
+
+	public void setUnitPriceNull()
+	{
+		zSetAttributeNull(BookFinder.unitPrice());
+	}
+}
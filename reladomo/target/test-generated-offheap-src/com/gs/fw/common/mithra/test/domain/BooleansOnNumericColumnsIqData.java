@@ -0,0 +1,555 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BooleansOnNumericColumnsIqData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private boolean booleanOnByteValue;
+	private boolean booleanOnIntValue;
+	private boolean booleanOnLongValue;
+	private boolean booleanOnShortValue;
+	private boolean booleanValue;
+	private int id;
+	private boolean nullableBooleanOnByteValue;
+	private boolean nullableBooleanOnIntValue;
+	private boolean nullableBooleanOnLongValue;
+	private boolean nullableBooleanOnShortValue;
+	private boolean nullableBooleanValue;
+	public boolean isBooleanOnByteValueNull()
+	{
+		return false;
+	}
+
+	public boolean isBooleanOnIntValueNull()
+	{
+		return false;
+	}
+
+	public boolean isBooleanOnLongValueNull()
+	{
+		return false;
+	}
+
+	public boolean isBooleanOnShortValueNull()
+	{
+		return false;
+	}
+
+	public boolean isBooleanValueNull()
+	{
+		return false;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNullableBooleanValueNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isNullableBooleanOnByteValueNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isNullableBooleanOnShortValueNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isNullableBooleanOnIntValueNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isNullableBooleanOnLongValueNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.booleanOnByteValue);
+		out.writeBoolean(this.booleanOnIntValue);
+		out.writeBoolean(this.booleanOnLongValue);
+		out.writeBoolean(this.booleanOnShortValue);
+		out.writeBoolean(this.booleanValue);
+		out.writeInt(this.id);
+		out.writeBoolean(this.nullableBooleanOnByteValue);
+		out.writeBoolean(this.nullableBooleanOnIntValue);
+		out.writeBoolean(this.nullableBooleanOnLongValue);
+		out.writeBoolean(this.nullableBooleanOnShortValue);
+		out.writeBoolean(this.nullableBooleanValue);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public boolean isBooleanOnByteValue()
+	{
+		return this.booleanOnByteValue;
+	}
+
+	public void setBooleanOnByteValue(boolean value)
+	{
+		this.booleanOnByteValue = value;
+	}
+
+	public void setBooleanOnByteValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean isBooleanOnIntValue()
+	{
+		return this.booleanOnIntValue;
+	}
+
+	public void setBooleanOnIntValue(boolean value)
+	{
+		this.booleanOnIntValue = value;
+	}
+
+	public void setBooleanOnIntValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean isBooleanOnLongValue()
+	{
+		return this.booleanOnLongValue;
+	}
+
+	public void setBooleanOnLongValue(boolean value)
+	{
+		this.booleanOnLongValue = value;
+	}
+
+	public void setBooleanOnLongValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean isBooleanOnShortValue()
+	{
+		return this.booleanOnShortValue;
+	}
+
+	public void setBooleanOnShortValue(boolean value)
+	{
+		this.booleanOnShortValue = value;
+	}
+
+	public void setBooleanOnShortValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean isBooleanValue()
+	{
+		return this.booleanValue;
+	}
+
+	public void setBooleanValue(boolean value)
+	{
+		this.booleanValue = value;
+	}
+
+	public void setBooleanValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean isNullableBooleanOnByteValue()
+	{
+		return this.nullableBooleanOnByteValue;
+	}
+
+	public void setNullableBooleanOnByteValue(boolean value)
+	{
+		this.nullableBooleanOnByteValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public boolean isNullableBooleanOnIntValue()
+	{
+		return this.nullableBooleanOnIntValue;
+	}
+
+	public void setNullableBooleanOnIntValue(boolean value)
+	{
+		this.nullableBooleanOnIntValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public boolean isNullableBooleanOnLongValue()
+	{
+		return this.nullableBooleanOnLongValue;
+	}
+
+	public void setNullableBooleanOnLongValue(boolean value)
+	{
+		this.nullableBooleanOnLongValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public boolean isNullableBooleanOnShortValue()
+	{
+		return this.nullableBooleanOnShortValue;
+	}
+
+	public void setNullableBooleanOnShortValue(boolean value)
+	{
+		this.nullableBooleanOnShortValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public boolean isNullableBooleanValue()
+	{
+		return this.nullableBooleanValue;
+	}
+
+	public void setNullableBooleanValue(boolean value)
+	{
+		this.nullableBooleanValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setNullableBooleanValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setNullableBooleanOnByteValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setNullableBooleanOnShortValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setNullableBooleanOnIntValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setNullableBooleanOnLongValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(BooleansOnNumericColumnsIqData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.booleanOnByteValue = this.booleanOnByteValue;
+		copy.booleanOnIntValue = this.booleanOnIntValue;
+		copy.booleanOnLongValue = this.booleanOnLongValue;
+		copy.booleanOnShortValue = this.booleanOnShortValue;
+		copy.booleanValue = this.booleanValue;
+		copy.id = this.id;
+		copy.nullableBooleanOnByteValue = this.nullableBooleanOnByteValue;
+		copy.nullableBooleanOnIntValue = this.nullableBooleanOnIntValue;
+		copy.nullableBooleanOnLongValue = this.nullableBooleanOnLongValue;
+		copy.nullableBooleanOnShortValue = this.nullableBooleanOnShortValue;
+		copy.nullableBooleanValue = this.nullableBooleanValue;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.booleanOnByteValue = in.readBoolean();
+		this.booleanOnIntValue = in.readBoolean();
+		this.booleanOnLongValue = in.readBoolean();
+		this.booleanOnShortValue = in.readBoolean();
+		this.booleanValue = in.readBoolean();
+		this.id = in.readInt();
+		this.nullableBooleanOnByteValue = in.readBoolean();
+		this.nullableBooleanOnIntValue = in.readBoolean();
+		this.nullableBooleanOnLongValue = in.readBoolean();
+		this.nullableBooleanOnShortValue = in.readBoolean();
+		this.nullableBooleanValue = in.readBoolean();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final BooleansOnNumericColumnsIqData otherData = (BooleansOnNumericColumnsIqData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final BooleansOnNumericColumnsIqData booleansOnNumericColumnsIqData = (BooleansOnNumericColumnsIqData) newData;
+		this.setBooleanOnByteValue(booleansOnNumericColumnsIqData.isBooleanOnByteValue());
+		this.setBooleanOnIntValue(booleansOnNumericColumnsIqData.isBooleanOnIntValue());
+		this.setBooleanOnLongValue(booleansOnNumericColumnsIqData.isBooleanOnLongValue());
+		this.setBooleanOnShortValue(booleansOnNumericColumnsIqData.isBooleanOnShortValue());
+		this.setBooleanValue(booleansOnNumericColumnsIqData.isBooleanValue());
+		this.setNullableBooleanOnByteValue(booleansOnNumericColumnsIqData.isNullableBooleanOnByteValue());
+		if (booleansOnNumericColumnsIqData.isNullableBooleanOnByteValueNull()) this.setNullableBooleanOnByteValueNull();
+		this.setNullableBooleanOnIntValue(booleansOnNumericColumnsIqData.isNullableBooleanOnIntValue());
+		if (booleansOnNumericColumnsIqData.isNullableBooleanOnIntValueNull()) this.setNullableBooleanOnIntValueNull();
+		this.setNullableBooleanOnLongValue(booleansOnNumericColumnsIqData.isNullableBooleanOnLongValue());
+		if (booleansOnNumericColumnsIqData.isNullableBooleanOnLongValueNull()) this.setNullableBooleanOnLongValueNull();
+		this.setNullableBooleanOnShortValue(booleansOnNumericColumnsIqData.isNullableBooleanOnShortValue());
+		if (booleansOnNumericColumnsIqData.isNullableBooleanOnShortValueNull()) this.setNullableBooleanOnShortValueNull();
+		this.setNullableBooleanValue(booleansOnNumericColumnsIqData.isNullableBooleanValue());
+		if (booleansOnNumericColumnsIqData.isNullableBooleanValueNull()) this.setNullableBooleanValueNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final BooleansOnNumericColumnsIqData other = (BooleansOnNumericColumnsIqData) newData;
+		if ( isBooleanOnByteValue() != other.isBooleanOnByteValue())
+		{
+			return true;
+		}
+
+		if ( isBooleanOnIntValue() != other.isBooleanOnIntValue())
+		{
+			return true;
+		}
+
+		if ( isBooleanOnLongValue() != other.isBooleanOnLongValue())
+		{
+			return true;
+		}
+
+		if ( isBooleanOnShortValue() != other.isBooleanOnShortValue())
+		{
+			return true;
+		}
+
+		if ( isBooleanValue() != other.isBooleanValue())
+		{
+			return true;
+		}
+
+		if ( isNullableBooleanOnByteValueNull() != other.isNullableBooleanOnByteValueNull() || isNullableBooleanOnByteValue() != other.isNullableBooleanOnByteValue())
+		{
+			return true;
+		}
+
+		if ( isNullableBooleanOnIntValueNull() != other.isNullableBooleanOnIntValueNull() || isNullableBooleanOnIntValue() != other.isNullableBooleanOnIntValue())
+		{
+			return true;
+		}
+
+		if ( isNullableBooleanOnLongValueNull() != other.isNullableBooleanOnLongValueNull() || isNullableBooleanOnLongValue() != other.isNullableBooleanOnLongValue())
+		{
+			return true;
+		}
+
+		if ( isNullableBooleanOnShortValueNull() != other.isNullableBooleanOnShortValueNull() || isNullableBooleanOnShortValue() != other.isNullableBooleanOnShortValue())
+		{
+			return true;
+		}
+
+		if ( isNullableBooleanValueNull() != other.isNullableBooleanValueNull() || isNullableBooleanValue() != other.isNullableBooleanValue())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		BooleansOnNumericColumnsIqData copy = new BooleansOnNumericColumnsIqData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		BooleansOnNumericColumnsIqData copy = new BooleansOnNumericColumnsIqData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.BooleansOnNumericColumnsIqData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return BooleansOnNumericColumnsIqFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return BooleansOnNumericColumnsIqFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.BooleansOnNumericColumnsIqData";
+	}
+}
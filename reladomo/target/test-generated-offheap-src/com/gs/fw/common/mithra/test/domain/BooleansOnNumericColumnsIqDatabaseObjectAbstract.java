@@ -0,0 +1,502 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class BooleansOnNumericColumnsIqDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "BOOL_COL,BYTE_COL,SHORT_COL,INT_COL,LONG_COL,NULL_BOOL_COL,NULL_BYTE_COL,NULL_SHORT_COL,NULL_INT_COL,NULL_LONG_COL";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.BOOL_COL,t0.BYTE_COL,t0.SHORT_COL,t0.INT_COL,t0.LONG_COL,t0.NULL_BOOL_COL,t0.NULL_BYTE_COL,t0.NULL_SHORT_COL,t0.NULL_INT_COL,t0.NULL_LONG_COL";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected BooleansOnNumericColumnsIqDatabaseObjectAbstract()
+	{
+		super("BooleansOnNumericColumnsIq", "com.gs.fw.common.mithra.test.domain.BooleansOnNumericColumnsIqFinder",
+			11, 11,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BooleansOnNumericColumnsIqFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return BooleansOnNumericColumnsIqFinder.getFinderInstance();
+	}
+
+	public static BooleansOnNumericColumnsIqData allocateOnHeapData()
+	{
+		return new BooleansOnNumericColumnsIqData();
+	}
+
+	public static BooleansOnNumericColumnsIqData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new BooleansOnNumericColumnsIqData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		BooleansOnNumericColumnsIqData data = new BooleansOnNumericColumnsIqData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(BooleansOnNumericColumnsIqFinder.getPrimaryKeyAttributes(), this, BooleansOnNumericColumnsIqFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(BooleansOnNumericColumnsIqFinder.getPrimaryKeyAttributes(), this, BooleansOnNumericColumnsIqFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(BooleansOnNumericColumnsIqFinder.getPrimaryKeyAttributes(), this, BooleansOnNumericColumnsIqFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(BooleansOnNumericColumnsIqFinder.getPrimaryKeyAttributes(), this, BooleansOnNumericColumnsIqFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			BooleansOnNumericColumnsIqFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			BooleansOnNumericColumnsIqFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			BooleansOnNumericColumnsIq.zConfigFullTx();
+		}
+		else
+		{
+			BooleansOnNumericColumnsIq.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBooleansOnNumericColumnsIqData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkBooleansOnNumericColumnsIqData(1, (BooleansOnNumericColumnsIqData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBooleansOnNumericColumnsIqPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getBooleansOnNumericColumnsIqTableName();
+	}
+
+	public String getBooleansOnNumericColumnsIqTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.BOOL_COL,t0.BYTE_COL,t0.SHORT_COL,t0.INT_COL,t0.LONG_COL,t0.NULL_BOOL_COL,t0.NULL_BYTE_COL,t0.NULL_SHORT_COL,t0.NULL_INT_COL,t0.NULL_LONG_COL";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*11);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("BOOL_COL");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_COL");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_COL");
+		result.append(",").append(databaseAlias).append(".").append("INT_COL");
+		result.append(",").append(databaseAlias).append(".").append("LONG_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_BOOL_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_BYTE_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_SHORT_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_INT_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_LONG_COL");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public BooleansOnNumericColumnsIqData inflateBooleansOnNumericColumnsIqData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		BooleansOnNumericColumnsIqData data = inflateBooleansOnNumericColumnsIqPkData(rs, dt);
+		inflateNonPkBooleansOnNumericColumnsIqData(2, data, rs, dt);
+		return data;
+	}
+
+	public BooleansOnNumericColumnsIqData inflateBooleansOnNumericColumnsIqPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		BooleansOnNumericColumnsIqData _data = new BooleansOnNumericColumnsIqData();
+		int _pos = 1;
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkBooleansOnNumericColumnsIqData(int _pos, BooleansOnNumericColumnsIqData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			BooleansOnNumericColumnsIqData _data = _datax;
+			_data.setBooleanValue(_rs.getBoolean(_pos++));
+			checkNullPrimitive(_rs, _data, "booleanValue");
+			_data.setBooleanOnByteValue(_rs.getBoolean(_pos++));
+			checkNullPrimitive(_rs, _data, "booleanOnByteValue");
+			_data.setBooleanOnShortValue(_rs.getBoolean(_pos++));
+			checkNullPrimitive(_rs, _data, "booleanOnShortValue");
+			_data.setBooleanOnIntValue(_rs.getBoolean(_pos++));
+			checkNullPrimitive(_rs, _data, "booleanOnIntValue");
+			_data.setBooleanOnLongValue(_rs.getBoolean(_pos++));
+			checkNullPrimitive(_rs, _data, "booleanOnLongValue");
+			_data.setNullableBooleanValue(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableBooleanValueNull();
+			}
+
+			_data.setNullableBooleanOnByteValue(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableBooleanOnByteValueNull();
+			}
+
+			_data.setNullableBooleanOnShortValue(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableBooleanOnShortValueNull();
+			}
+
+			_data.setNullableBooleanOnIntValue(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableBooleanOnIntValueNull();
+			}
+
+			_data.setNullableBooleanOnLongValue(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableBooleanOnLongValueNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "BOOLEAN_ON_NUMERIC_TYPES";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		stm.setBoolean(pos++, data.isBooleanValue());
+		stm.setBoolean(pos++, data.isBooleanOnByteValue());
+		stm.setBoolean(pos++, data.isBooleanOnShortValue());
+		stm.setBoolean(pos++, data.isBooleanOnIntValue());
+		stm.setBoolean(pos++, data.isBooleanOnLongValue());
+		if (data.isNullableBooleanValueNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isNullableBooleanValue());
+		}
+
+		if (data.isNullableBooleanOnByteValueNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isNullableBooleanOnByteValue());
+		}
+
+		if (data.isNullableBooleanOnShortValueNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isNullableBooleanOnShortValue());
+		}
+
+		if (data.isNullableBooleanOnIntValueNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isNullableBooleanOnIntValue());
+		}
+
+		if (data.isNullableBooleanOnLongValueNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isNullableBooleanOnLongValue());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,BOOL_COL,BYTE_COL,SHORT_COL,INT_COL,LONG_COL,NULL_BOOL_COL,NULL_BYTE_COL,NULL_SHORT_COL,NULL_INT_COL,NULL_LONG_COL";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		BooleansOnNumericColumnsIq newObject = new BooleansOnNumericColumnsIq();
+		newObject.zSetFromBooleansOnNumericColumnsIqData((BooleansOnNumericColumnsIqData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*11);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ID");
+		return result.toString();
+	}
+}
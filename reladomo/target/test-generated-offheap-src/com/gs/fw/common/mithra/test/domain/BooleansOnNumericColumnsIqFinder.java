@@ -0,0 +1,801 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BooleansOnNumericColumnsIqFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BooleansOnNumericColumnsIq";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BooleansOnNumericColumnsIq";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BooleansOnNumericColumnsIq");
+	private static final BooleansOnNumericColumnsIqSingleFinder<BooleansOnNumericColumnsIq, Object, BooleansOnNumericColumnsIq> finder = new BooleansOnNumericColumnsIqSingleFinder<BooleansOnNumericColumnsIq, Object, BooleansOnNumericColumnsIq>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BooleansOnNumericColumnsIqFinder.BooleansOnNumericColumnsIqRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("booleanValue");
+		finderMethodMap.addNormalAttributeName("booleanOnByteValue");
+		finderMethodMap.addNormalAttributeName("booleanOnShortValue");
+		finderMethodMap.addNormalAttributeName("booleanOnIntValue");
+		finderMethodMap.addNormalAttributeName("booleanOnLongValue");
+		finderMethodMap.addNormalAttributeName("nullableBooleanValue");
+		finderMethodMap.addNormalAttributeName("nullableBooleanOnByteValue");
+		finderMethodMap.addNormalAttributeName("nullableBooleanOnShortValue");
+		finderMethodMap.addNormalAttributeName("nullableBooleanOnIntValue");
+		finderMethodMap.addNormalAttributeName("nullableBooleanOnLongValue");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BooleansOnNumericColumnsIq findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BooleansOnNumericColumnsIq findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BooleansOnNumericColumnsIqList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BooleansOnNumericColumnsIqList) finder.findMany(operation);
+	}
+
+	public static BooleansOnNumericColumnsIqList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BooleansOnNumericColumnsIqList) finder.findManyBypassCache(operation);
+	}
+
+	private static BooleansOnNumericColumnsIq findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BooleansOnNumericColumnsIq) FinderUtils.findOne(found);
+	}
+
+	public static BooleansOnNumericColumnsIq findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BooleansOnNumericColumnsIqData _castedTargetData = (BooleansOnNumericColumnsIqData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BooleansOnNumericColumnsIq zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BooleansOnNumericColumnsIq) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BooleansOnNumericColumnsIqRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BooleansOnNumericColumnsIq, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private BooleanAttribute<ParentOwnerType> booleanValue;
+		private BooleanAttribute<ParentOwnerType> booleanOnByteValue;
+		private BooleanAttribute<ParentOwnerType> booleanOnShortValue;
+		private BooleanAttribute<ParentOwnerType> booleanOnIntValue;
+		private BooleanAttribute<ParentOwnerType> booleanOnLongValue;
+		private BooleanAttribute<ParentOwnerType> nullableBooleanValue;
+		private BooleanAttribute<ParentOwnerType> nullableBooleanOnByteValue;
+		private BooleanAttribute<ParentOwnerType> nullableBooleanOnShortValue;
+		private BooleanAttribute<ParentOwnerType> nullableBooleanOnIntValue;
+		private BooleanAttribute<ParentOwnerType> nullableBooleanOnLongValue;
+		public BooleansOnNumericColumnsIqRelatedFinder()
+		{
+			super();
+		}
+
+		public BooleansOnNumericColumnsIqRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BooleansOnNumericColumnsIqFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BooleansOnNumericColumnsIqFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BooleansOnNumericColumnsIqFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BooleansOnNumericColumnsIqFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[11];
+			attributes[0] = this.id();
+			attributes[1] = this.booleanValue();
+			attributes[2] = this.booleanOnByteValue();
+			attributes[3] = this.booleanOnShortValue();
+			attributes[4] = this.booleanOnIntValue();
+			attributes[5] = this.booleanOnLongValue();
+			attributes[6] = this.nullableBooleanValue();
+			attributes[7] = this.nullableBooleanOnByteValue();
+			attributes[8] = this.nullableBooleanOnShortValue();
+			attributes[9] = this.nullableBooleanOnIntValue();
+			attributes[10] = this.nullableBooleanOnLongValue();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BooleansOnNumericColumnsIq findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BooleansOnNumericColumnsIqFinder.findOne(operation, false);
+		}
+
+		public BooleansOnNumericColumnsIq findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BooleansOnNumericColumnsIqFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BooleansOnNumericColumnsIq> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BooleansOnNumericColumnsIqList((Operation) operation);
+		}
+
+		public MithraList<? extends BooleansOnNumericColumnsIq> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BooleansOnNumericColumnsIqList result = (BooleansOnNumericColumnsIqList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BooleansOnNumericColumnsIq> constructEmptyList()
+		{
+			return new BooleansOnNumericColumnsIqList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1914624226;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BooleansOnNumericColumnsIqFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOL_COL","","booleanValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.booleanValue(), this.mapper, this.zGetValueSelector());
+				this.booleanValue = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanOnByteValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanOnByteValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BYTE_COL","","booleanOnByteValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.booleanOnByteValue(), this.mapper, this.zGetValueSelector());
+				this.booleanOnByteValue = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanOnShortValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanOnShortValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("SHORT_COL","","booleanOnShortValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.booleanOnShortValue(), this.mapper, this.zGetValueSelector());
+				this.booleanOnShortValue = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanOnIntValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanOnIntValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("INT_COL","","booleanOnIntValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.booleanOnIntValue(), this.mapper, this.zGetValueSelector());
+				this.booleanOnIntValue = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanOnLongValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanOnLongValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("LONG_COL","","booleanOnLongValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.booleanOnLongValue(), this.mapper, this.zGetValueSelector());
+				this.booleanOnLongValue = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> nullableBooleanValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.nullableBooleanValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("NULL_BOOL_COL","","nullableBooleanValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.nullableBooleanValue(), this.mapper, this.zGetValueSelector());
+				this.nullableBooleanValue = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> nullableBooleanOnByteValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.nullableBooleanOnByteValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("NULL_BYTE_COL","","nullableBooleanOnByteValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.nullableBooleanOnByteValue(), this.mapper, this.zGetValueSelector());
+				this.nullableBooleanOnByteValue = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> nullableBooleanOnShortValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.nullableBooleanOnShortValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("NULL_SHORT_COL","","nullableBooleanOnShortValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.nullableBooleanOnShortValue(), this.mapper, this.zGetValueSelector());
+				this.nullableBooleanOnShortValue = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> nullableBooleanOnIntValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.nullableBooleanOnIntValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("NULL_INT_COL","","nullableBooleanOnIntValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.nullableBooleanOnIntValue(), this.mapper, this.zGetValueSelector());
+				this.nullableBooleanOnIntValue = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> nullableBooleanOnLongValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.nullableBooleanOnLongValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("NULL_LONG_COL","","nullableBooleanOnLongValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BooleansOnNumericColumnsIqFinder.nullableBooleanOnLongValue(), this.mapper, this.zGetValueSelector());
+				this.nullableBooleanOnLongValue = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BooleansOnNumericColumnsIqFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BooleansOnNumericColumnsIqFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BooleansOnNumericColumnsIqCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BooleansOnNumericColumnsIqRelatedFinder<ParentOwnerType, ReturnType, BooleansOnNumericColumnsIqList, OwnerType>
+	{
+		public BooleansOnNumericColumnsIqCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BooleansOnNumericColumnsIqCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BooleansOnNumericColumnsIqCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BooleansOnNumericColumnsIqCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BooleansOnNumericColumnsIqSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BooleansOnNumericColumnsIqRelatedFinder<ParentOwnerType, ReturnType, BooleansOnNumericColumnsIqList, OwnerType>
+	implements ToOneFinder
+	{
+		public BooleansOnNumericColumnsIqSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BooleansOnNumericColumnsIqSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BooleansOnNumericColumnsIq other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BooleansOnNumericColumnsIq findByPrimaryKey(int id)
+		{
+			BooleansOnNumericColumnsIq _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BooleansOnNumericColumnsIq) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BooleansOnNumericColumnsIqSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BooleansOnNumericColumnsIqSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BooleansOnNumericColumnsIqSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.ID **/
+	public static IntegerAttribute<BooleansOnNumericColumnsIq> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.BOOL_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> booleanValue()
+	{
+		return finder.booleanValue();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.BYTE_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> booleanOnByteValue()
+	{
+		return finder.booleanOnByteValue();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.SHORT_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> booleanOnShortValue()
+	{
+		return finder.booleanOnShortValue();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.INT_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> booleanOnIntValue()
+	{
+		return finder.booleanOnIntValue();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.LONG_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> booleanOnLongValue()
+	{
+		return finder.booleanOnLongValue();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.NULL_BOOL_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> nullableBooleanValue()
+	{
+		return finder.nullableBooleanValue();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.NULL_BYTE_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> nullableBooleanOnByteValue()
+	{
+		return finder.nullableBooleanOnByteValue();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.NULL_SHORT_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> nullableBooleanOnShortValue()
+	{
+		return finder.nullableBooleanOnShortValue();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.NULL_INT_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> nullableBooleanOnIntValue()
+	{
+		return finder.nullableBooleanOnIntValue();
+	}
+
+	/** maps to BOOLEAN_ON_NUMERIC_TYPES.NULL_LONG_COL **/
+	public static BooleanAttribute<BooleansOnNumericColumnsIq> nullableBooleanOnLongValue()
+	{
+		return finder.nullableBooleanOnLongValue();
+	}
+
+	public static Operation eq(BooleansOnNumericColumnsIq other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static BooleansOnNumericColumnsIqSingleFinder<BooleansOnNumericColumnsIq, Object, BooleansOnNumericColumnsIq> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BooleansOnNumericColumnsIq");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
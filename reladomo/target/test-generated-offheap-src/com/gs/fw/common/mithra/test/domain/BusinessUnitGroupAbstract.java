@@ -0,0 +1,203 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class BusinessUnitGroupAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String id;
+	public boolean isIdNull()
+	{
+		return this.getId() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.id);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		BusinessUnitGroupData data = new BusinessUnitGroupData();
+		data.setId(id);
+		return data;
+	}
+
+	public BusinessUnitGroup getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		BusinessUnitGroupAbstract copy = (BusinessUnitGroupAbstract) BusinessUnitGroupFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (BusinessUnitGroup)copy;
+	}
+
+	protected void zSetFromBusinessUnitGroupData(BusinessUnitGroupData data)
+	{
+		this.setFromBusinessUnitGroupData(data);
+	}
+
+	public void setFromBusinessUnitGroupData(BusinessUnitGroupData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		id = data.getId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BusinessUnitGroupFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromBusinessUnitGroupData((BusinessUnitGroupData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getId()
+	{
+		return this.id;
+	}
+
+	public void setId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = StringPool.getInstance().getOrAddToCache(value, BusinessUnitGroupFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final BusinessUnitGroupData businessUnitGroupData = (BusinessUnitGroupData) newData;
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+"'"+getId()+"'"+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeObject(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.id = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BusinessUnitGroupFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.id = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BusinessUnitGroupFinder.isFullCache());
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = BusinessUnitGroupFinder.id().eq(this.getId());
+			return BusinessUnitGroupFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
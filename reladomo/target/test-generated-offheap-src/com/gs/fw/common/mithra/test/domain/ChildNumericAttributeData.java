@@ -0,0 +1,608 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ChildNumericAttributeData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private BigDecimal bigDecimalAttr;
+	private byte byteAttr;
+	private char charAttr;
+	private double doubleAttr;
+	private float floatAttr;
+	private int id;
+	private int intAttr;
+	private long longAttr;
+	private int parentId;
+	private short shortAttr;
+	private BigDecimal veryBigDecimalAttr;
+	public boolean isBigDecimalAttrNull()
+	{
+		return this.getBigDecimalAttr() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isVeryBigDecimalAttrNull()
+	{
+		return this.getVeryBigDecimalAttr() == null;
+	}
+
+	public boolean isParentIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isDoubleAttrNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isFloatAttrNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isLongAttrNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isIntAttrNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isShortAttrNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isByteAttrNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isCharAttrNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.bigDecimalAttr);
+		out.writeByte(this.byteAttr);
+		out.writeChar(this.charAttr);
+		out.writeDouble(this.doubleAttr);
+		out.writeFloat(this.floatAttr);
+		out.writeInt(this.id);
+		out.writeInt(this.intAttr);
+		out.writeLong(this.longAttr);
+		out.writeInt(this.parentId);
+		out.writeShort(this.shortAttr);
+		out.writeObject(this.veryBigDecimalAttr);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public BigDecimal getBigDecimalAttr()
+	{
+		return this.bigDecimalAttr;
+	}
+
+	public void setBigDecimalAttr(BigDecimal value)
+	{
+		this.bigDecimalAttr = value;
+	}
+
+	public void setBigDecimalAttrNull()
+	{
+		this.setBigDecimalAttr(null);
+	}
+
+	public byte getByteAttr()
+	{
+		return this.byteAttr;
+	}
+
+	public void setByteAttr(byte value)
+	{
+		this.byteAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public char getCharAttr()
+	{
+		return this.charAttr;
+	}
+
+	public void setCharAttr(char value)
+	{
+		this.charAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	public double getDoubleAttr()
+	{
+		return this.doubleAttr;
+	}
+
+	public void setDoubleAttr(double value)
+	{
+		this.doubleAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public float getFloatAttr()
+	{
+		return this.floatAttr;
+	}
+
+	public void setFloatAttr(float value)
+	{
+		this.floatAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getIntAttr()
+	{
+		return this.intAttr;
+	}
+
+	public void setIntAttr(int value)
+	{
+		this.intAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public long getLongAttr()
+	{
+		return this.longAttr;
+	}
+
+	public void setLongAttr(long value)
+	{
+		this.longAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getParentId()
+	{
+		return this.parentId;
+	}
+
+	public void setParentId(int value)
+	{
+		this.parentId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public short getShortAttr()
+	{
+		return this.shortAttr;
+	}
+
+	public void setShortAttr(short value)
+	{
+		this.shortAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public BigDecimal getVeryBigDecimalAttr()
+	{
+		return this.veryBigDecimalAttr;
+	}
+
+	public void setVeryBigDecimalAttr(BigDecimal value)
+	{
+		this.veryBigDecimalAttr = value;
+	}
+
+	public void setVeryBigDecimalAttrNull()
+	{
+		this.setVeryBigDecimalAttr(null);
+	}
+
+	public void setParentIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setDoubleAttrNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setFloatAttrNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setLongAttrNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setIntAttrNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setShortAttrNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setByteAttrNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+	}
+
+	public void setCharAttrNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 7);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ChildNumericAttributeData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.bigDecimalAttr = this.bigDecimalAttr;
+		copy.byteAttr = this.byteAttr;
+		copy.charAttr = this.charAttr;
+		copy.doubleAttr = this.doubleAttr;
+		copy.floatAttr = this.floatAttr;
+		copy.id = this.id;
+		copy.intAttr = this.intAttr;
+		copy.longAttr = this.longAttr;
+		copy.parentId = this.parentId;
+		copy.shortAttr = this.shortAttr;
+		copy.veryBigDecimalAttr = this.veryBigDecimalAttr;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.bigDecimalAttr = (BigDecimal)in.readObject();
+		this.byteAttr = in.readByte();
+		this.charAttr = in.readChar();
+		this.doubleAttr = in.readDouble();
+		this.floatAttr = in.readFloat();
+		this.id = in.readInt();
+		this.intAttr = in.readInt();
+		this.longAttr = in.readLong();
+		this.parentId = in.readInt();
+		this.shortAttr = in.readShort();
+		this.veryBigDecimalAttr = (BigDecimal)in.readObject();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ChildNumericAttributeData otherData = (ChildNumericAttributeData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getParent()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setParent(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ChildNumericAttributeData childNumericAttributeData = (ChildNumericAttributeData) newData;
+		this.setBigDecimalAttr(childNumericAttributeData.getBigDecimalAttr());
+		this.setByteAttr(childNumericAttributeData.getByteAttr());
+		if (childNumericAttributeData.isByteAttrNull()) this.setByteAttrNull();
+		this.setCharAttr(childNumericAttributeData.getCharAttr());
+		if (childNumericAttributeData.isCharAttrNull()) this.setCharAttrNull();
+		this.setDoubleAttr(childNumericAttributeData.getDoubleAttr());
+		if (childNumericAttributeData.isDoubleAttrNull()) this.setDoubleAttrNull();
+		this.setFloatAttr(childNumericAttributeData.getFloatAttr());
+		if (childNumericAttributeData.isFloatAttrNull()) this.setFloatAttrNull();
+		this.setIntAttr(childNumericAttributeData.getIntAttr());
+		if (childNumericAttributeData.isIntAttrNull()) this.setIntAttrNull();
+		this.setLongAttr(childNumericAttributeData.getLongAttr());
+		if (childNumericAttributeData.isLongAttrNull()) this.setLongAttrNull();
+		this.setParentId(childNumericAttributeData.getParentId());
+		if (childNumericAttributeData.isParentIdNull()) this.setParentIdNull();
+		this.setShortAttr(childNumericAttributeData.getShortAttr());
+		if (childNumericAttributeData.isShortAttrNull()) this.setShortAttrNull();
+		this.setVeryBigDecimalAttr(childNumericAttributeData.getVeryBigDecimalAttr());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ChildNumericAttributeData other = (ChildNumericAttributeData) newData;
+		if (!isBigDecimalAttrNull() ? !getBigDecimalAttr().equals(other.getBigDecimalAttr()) : !other.isBigDecimalAttrNull())
+		{
+			return true;
+		}
+
+		if ( isByteAttrNull() != other.isByteAttrNull() || getByteAttr() != other.getByteAttr())
+		{
+			return true;
+		}
+
+		if ( isCharAttrNull() != other.isCharAttrNull() || getCharAttr() != other.getCharAttr())
+		{
+			return true;
+		}
+
+		if ( isDoubleAttrNull() != other.isDoubleAttrNull() || Math.abs(getDoubleAttr() - other.getDoubleAttr()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFloatAttrNull() != other.isFloatAttrNull() || Math.abs(getFloatAttr() - other.getFloatAttr()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isIntAttrNull() != other.isIntAttrNull() || getIntAttr() != other.getIntAttr())
+		{
+			return true;
+		}
+
+		if ( isLongAttrNull() != other.isLongAttrNull() || getLongAttr() != other.getLongAttr())
+		{
+			return true;
+		}
+
+		if ( isParentIdNull() != other.isParentIdNull() || getParentId() != other.getParentId())
+		{
+			return true;
+		}
+
+		if ( isShortAttrNull() != other.isShortAttrNull() || getShortAttr() != other.getShortAttr())
+		{
+			return true;
+		}
+
+		if (!isVeryBigDecimalAttrNull() ? !getVeryBigDecimalAttr().equals(other.getVeryBigDecimalAttr()) : !other.isVeryBigDecimalAttrNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ChildNumericAttributeData copy = new ChildNumericAttributeData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ChildNumericAttributeData copy = new ChildNumericAttributeData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ChildNumericAttributeData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ChildNumericAttributeFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ChildNumericAttributeFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ChildNumericAttributeData";
+	}
+}
@@ -0,0 +1,867 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ChildNumericAttributeFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ChildNumericAttribute";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ChildNumericAttribute";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ChildNumericAttribute");
+	private static final ChildNumericAttributeSingleFinder<ChildNumericAttribute, Object, ChildNumericAttribute> finder = new ChildNumericAttributeSingleFinder<ChildNumericAttribute, Object, ChildNumericAttribute>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ChildNumericAttributeFinder.ChildNumericAttributeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("parentId");
+		finderMethodMap.addNormalAttributeName("doubleAttr");
+		finderMethodMap.addNormalAttributeName("floatAttr");
+		finderMethodMap.addNormalAttributeName("longAttr");
+		finderMethodMap.addNormalAttributeName("intAttr");
+		finderMethodMap.addNormalAttributeName("shortAttr");
+		finderMethodMap.addNormalAttributeName("byteAttr");
+		finderMethodMap.addNormalAttributeName("charAttr");
+		finderMethodMap.addNormalAttributeName("bigDecimalAttr");
+		finderMethodMap.addNormalAttributeName("veryBigDecimalAttr");
+		finderMethodMap.addRelationshipName("parent");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ChildNumericAttribute findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ChildNumericAttribute findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ChildNumericAttributeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ChildNumericAttributeList) finder.findMany(operation);
+	}
+
+	public static ChildNumericAttributeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ChildNumericAttributeList) finder.findManyBypassCache(operation);
+	}
+
+	private static ChildNumericAttribute findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ChildNumericAttribute) FinderUtils.findOne(found);
+	}
+
+	public static ChildNumericAttribute findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ChildNumericAttribute _castedTargetData = (ChildNumericAttribute) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ChildNumericAttribute zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ChildNumericAttribute) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ChildNumericAttributeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ChildNumericAttribute, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> parentId;
+		private DoubleAttribute<ParentOwnerType> doubleAttr;
+		private FloatAttribute<ParentOwnerType> floatAttr;
+		private LongAttribute<ParentOwnerType> longAttr;
+		private IntegerAttribute<ParentOwnerType> intAttr;
+		private ShortAttribute<ParentOwnerType> shortAttr;
+		private ByteAttribute<ParentOwnerType> byteAttr;
+		private CharAttribute<ParentOwnerType> charAttr;
+		private BigDecimalAttribute<ParentOwnerType> bigDecimalAttr;
+		private BigDecimalAttribute<ParentOwnerType> veryBigDecimalAttr;
+		private ChildNumericAttributeParentFinderSubclass<ParentOwnerType> parent;
+		public ChildNumericAttributeRelatedFinder()
+		{
+			super();
+		}
+
+		public ChildNumericAttributeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ChildNumericAttributeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ChildNumericAttributeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ChildNumericAttributeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ChildNumericAttributeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[11];
+			attributes[0] = this.id();
+			attributes[1] = this.parentId();
+			attributes[2] = this.doubleAttr();
+			attributes[3] = this.floatAttr();
+			attributes[4] = this.longAttr();
+			attributes[5] = this.intAttr();
+			attributes[6] = this.shortAttr();
+			attributes[7] = this.byteAttr();
+			attributes[8] = this.charAttr();
+			attributes[9] = this.bigDecimalAttr();
+			attributes[10] = this.veryBigDecimalAttr();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.parent());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ChildNumericAttribute findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ChildNumericAttributeFinder.findOne(operation, false);
+		}
+
+		public ChildNumericAttribute findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ChildNumericAttributeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ChildNumericAttribute> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ChildNumericAttributeList((Operation) operation);
+		}
+
+		public MithraList<? extends ChildNumericAttribute> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ChildNumericAttributeList result = (ChildNumericAttributeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ChildNumericAttribute> constructEmptyList()
+		{
+			return new ChildNumericAttributeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1256983070;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChildNumericAttributeFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> parentId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.parentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PARENT_ID","","parentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChildNumericAttributeFinder.parentId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parent");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ParentNumericAttribute", "children");
+				this.parentId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleAttr()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_ATTR","","doubleAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ChildNumericAttributeFinder.doubleAttr(), this.mapper, this.zGetValueSelector());
+				this.doubleAttr = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatAttr()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_ATTR","","floatAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(ChildNumericAttributeFinder.floatAttr(), this.mapper, this.zGetValueSelector());
+				this.floatAttr = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longAttr()
+		{
+			LongAttribute<ParentOwnerType> result = this.longAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_ATTR","","longAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(ChildNumericAttributeFinder.longAttr(), this.mapper, this.zGetValueSelector());
+				this.longAttr = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intAttr()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_ATTR","","intAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChildNumericAttributeFinder.intAttr(), this.mapper, this.zGetValueSelector());
+				this.intAttr = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortAttr()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_ATTR","","shortAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedShortAttribute(ChildNumericAttributeFinder.shortAttr(), this.mapper, this.zGetValueSelector());
+				this.shortAttr = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteAttr()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_ATTR","","byteAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedByteAttribute(ChildNumericAttributeFinder.byteAttr(), this.mapper, this.zGetValueSelector());
+				this.byteAttr = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charAttr()
+		{
+			CharAttribute<ParentOwnerType> result = this.charAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_ATTR","","charAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedCharAttribute(ChildNumericAttributeFinder.charAttr(), this.mapper, this.zGetValueSelector());
+				this.charAttr = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> bigDecimalAttr()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.bigDecimalAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("BIG_DECIMAL_ATTR","","bigDecimalAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,5,2, false) :
+					new MappedBigDecimalAttribute(ChildNumericAttributeFinder.bigDecimalAttr(), this.mapper, this.zGetValueSelector());
+				this.bigDecimalAttr = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> veryBigDecimalAttr()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.veryBigDecimalAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("VERY_BIG_DECIMAL_ATTR","","veryBigDecimalAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,28,9, false) :
+					new MappedBigDecimalAttribute(ChildNumericAttributeFinder.veryBigDecimalAttr(), this.mapper, this.zGetValueSelector());
+				this.veryBigDecimalAttr = result;
+			}
+
+			return result;
+		}
+
+		public ParentNumericAttributeFinder.ParentNumericAttributeSingleFinderForRelatedClasses<ParentOwnerType, ParentNumericAttribute, ChildNumericAttribute> parent()
+		{
+			ChildNumericAttributeParentFinderSubclass<ParentOwnerType> result = this.parent;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentNumericAttributeFinder.zGetParentNumericAttributeChildrenMapper());
+				newMapper.setToMany(false);
+				result = new ChildNumericAttributeParentFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parent = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ChildNumericAttributeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ChildNumericAttributeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ChildNumericAttributeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ChildNumericAttributeRelatedFinder<ParentOwnerType, ReturnType, ChildNumericAttributeList, OwnerType>
+	{
+		public ChildNumericAttributeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ChildNumericAttributeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ChildNumericAttributeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ChildNumericAttributeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ChildNumericAttributeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ChildNumericAttributeRelatedFinder<ParentOwnerType, ReturnType, ChildNumericAttributeList, OwnerType>
+	implements ToOneFinder
+	{
+		public ChildNumericAttributeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ChildNumericAttributeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ChildNumericAttribute other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ChildNumericAttribute findByPrimaryKey(int id)
+		{
+			ChildNumericAttribute _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ChildNumericAttribute) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ChildNumericAttributeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ChildNumericAttributeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ChildNumericAttributeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to CHILD_NUM_ATTR.ID **/
+	public static IntegerAttribute<ChildNumericAttribute> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to CHILD_NUM_ATTR.PARENT_ID **/
+	public static IntegerAttribute<ChildNumericAttribute> parentId()
+	{
+		return finder.parentId();
+	}
+
+	/** maps to CHILD_NUM_ATTR.DOUBLE_ATTR **/
+	public static DoubleAttribute<ChildNumericAttribute> doubleAttr()
+	{
+		return finder.doubleAttr();
+	}
+
+	/** maps to CHILD_NUM_ATTR.FLOAT_ATTR **/
+	public static FloatAttribute<ChildNumericAttribute> floatAttr()
+	{
+		return finder.floatAttr();
+	}
+
+	/** maps to CHILD_NUM_ATTR.LONG_ATTR **/
+	public static LongAttribute<ChildNumericAttribute> longAttr()
+	{
+		return finder.longAttr();
+	}
+
+	/** maps to CHILD_NUM_ATTR.INT_ATTR **/
+	public static IntegerAttribute<ChildNumericAttribute> intAttr()
+	{
+		return finder.intAttr();
+	}
+
+	/** maps to CHILD_NUM_ATTR.SHORT_ATTR **/
+	public static ShortAttribute<ChildNumericAttribute> shortAttr()
+	{
+		return finder.shortAttr();
+	}
+
+	/** maps to CHILD_NUM_ATTR.BYTE_ATTR **/
+	public static ByteAttribute<ChildNumericAttribute> byteAttr()
+	{
+		return finder.byteAttr();
+	}
+
+	/** maps to CHILD_NUM_ATTR.CHAR_ATTR **/
+	public static CharAttribute<ChildNumericAttribute> charAttr()
+	{
+		return finder.charAttr();
+	}
+
+	/** maps to CHILD_NUM_ATTR.BIG_DECIMAL_ATTR **/
+	public static BigDecimalAttribute<ChildNumericAttribute> bigDecimalAttr()
+	{
+		return finder.bigDecimalAttr();
+	}
+
+	/** maps to CHILD_NUM_ATTR.VERY_BIG_DECIMAL_ATTR **/
+	public static BigDecimalAttribute<ChildNumericAttribute> veryBigDecimalAttr()
+	{
+		return finder.veryBigDecimalAttr();
+	}
+
+	public static ParentNumericAttributeFinder.ParentNumericAttributeSingleFinderForRelatedClasses<ChildNumericAttribute, ParentNumericAttribute, ChildNumericAttribute> parent()
+	{
+		return finder.parent();
+	}
+
+	public static class ChildNumericAttributeParentFinderSubclass<ParentOwnerType> extends ParentNumericAttributeFinder.ParentNumericAttributeSingleFinderForRelatedClasses<ParentOwnerType, ParentNumericAttribute, ChildNumericAttribute>
+	{
+		public ChildNumericAttributeParentFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parent";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ChildNumericAttributeParentFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ParentNumericAttribute plainValueOf(ChildNumericAttribute _obj)
+		{
+			return _obj.getParent();
+		}
+
+		protected ParentNumericAttributeList plainListValueOf(Object _obj)
+		{
+			return ((ChildNumericAttributeList)_obj).getParents();
+		}
+	}
+
+	public static Operation eq(ChildNumericAttribute other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ChildNumericAttributeSingleFinder<ChildNumericAttribute, Object, ChildNumericAttribute> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			parentId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ParentNumericAttributeFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ParentNumericAttributeFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = doubleAttr();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[2];
+		result[0] = bigDecimalAttr();
+		result[1] = veryBigDecimalAttr();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ChildNumericAttribute");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
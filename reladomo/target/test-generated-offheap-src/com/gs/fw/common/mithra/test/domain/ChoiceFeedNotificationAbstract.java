@@ -0,0 +1,360 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ChoiceFeedNotificationAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ChoiceFeedNotification.class.getName());
+	public ChoiceFeedNotificationAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ChoiceFeedNotification getDetachedCopy() throws MithraBusinessException
+	{
+		return (ChoiceFeedNotification) super.getDetachedCopy();
+	}
+
+	public ChoiceFeedNotification getNonPersistentCopy() throws MithraBusinessException
+	{
+		ChoiceFeedNotification result = (ChoiceFeedNotification) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ChoiceFeedNotification copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ChoiceFeedNotification) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ChoiceFeedNotification zFindOriginal()
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData) this.currentData;
+		Operation op;
+		op = ChoiceFeedNotificationFinder.uniqueId().eq(data.getUniqueId());
+		return ChoiceFeedNotificationFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ChoiceFeedNotificationData();
+	}
+
+	protected void zSetFromChoiceFeedNotificationData( ChoiceFeedNotificationData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromChoiceFeedNotificationData( ChoiceFeedNotificationData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDataSourceIdNull()
+	{
+		return ((ChoiceFeedNotificationData) this.zSynchronizedGetData()).isDataSourceIdNull();
+	}
+
+	public int getDataSourceId()
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData) this.zSynchronizedGetData();
+		if (data.isDataSourceIdNull()) MithraNullPrimitiveException.throwNew("dataSourceId", data);
+		return data.getDataSourceId();
+	}
+
+	public void setDataSourceId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.dataSourceId(), newValue, false, false ,true);
+	}
+
+	public boolean isEventDateNull()
+	{
+		return ((ChoiceFeedNotificationData) this.zSynchronizedGetData()).isEventDateNull();
+	}
+
+	public Timestamp getEventDate()
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData) this.zSynchronizedGetData();
+		return data.getEventDate();
+	}
+
+	public void setEventDate(Timestamp newValue)
+	{
+		zSetTimestamp(ChoiceFeedNotificationFinder.eventDate(), newValue, false, false );
+	}
+
+	public boolean isFeedModeCodeIdNull()
+	{
+		return ((ChoiceFeedNotificationData) this.zSynchronizedGetData()).isFeedModeCodeIdNull();
+	}
+
+	public int getFeedModeCodeId()
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData) this.zSynchronizedGetData();
+		if (data.isFeedModeCodeIdNull()) MithraNullPrimitiveException.throwNew("feedModeCodeId", data);
+		return data.getFeedModeCodeId();
+	}
+
+	public void setFeedModeCodeId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.feedModeCodeId(), newValue, false, false ,true);
+	}
+
+	public boolean isNotificationTypeIdNull()
+	{
+		return ((ChoiceFeedNotificationData) this.zSynchronizedGetData()).isNotificationTypeIdNull();
+	}
+
+	public int getNotificationTypeId()
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData) this.zSynchronizedGetData();
+		if (data.isNotificationTypeIdNull()) MithraNullPrimitiveException.throwNew("notificationTypeId", data);
+		return data.getNotificationTypeId();
+	}
+
+	public void setNotificationTypeId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.notificationTypeId(), newValue, false, false ,true);
+	}
+
+	public boolean isPhysicalPartitionIdNull()
+	{
+		return ((ChoiceFeedNotificationData) this.zSynchronizedGetData()).isPhysicalPartitionIdNull();
+	}
+
+	public int getPhysicalPartitionId()
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData) this.zSynchronizedGetData();
+		if (data.isPhysicalPartitionIdNull()) MithraNullPrimitiveException.throwNew("physicalPartitionId", data);
+		return data.getPhysicalPartitionId();
+	}
+
+	public void setPhysicalPartitionId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.physicalPartitionId(), newValue, false, false ,true);
+	}
+
+	public boolean isSourceUpdateDateNull()
+	{
+		return ((ChoiceFeedNotificationData) this.zSynchronizedGetData()).isSourceUpdateDateNull();
+	}
+
+	public Timestamp getSourceUpdateDate()
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData) this.zSynchronizedGetData();
+		return data.getSourceUpdateDate();
+	}
+
+	public void setSourceUpdateDate(Timestamp newValue)
+	{
+		zSetTimestamp(ChoiceFeedNotificationFinder.sourceUpdateDate(), newValue, false, false );
+	}
+
+	public boolean isUniqueIdNull()
+	{
+		return ((ChoiceFeedNotificationData) this.zSynchronizedGetData()).isUniqueIdNull();
+	}
+
+	public int getUniqueId()
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData) this.zSynchronizedGetData();
+		return data.getUniqueId();
+	}
+
+	public void setUniqueId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.uniqueId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ChoiceFeedNotificationFinder.dataSourceId(), false);
+		zNullify(behavior, data, ChoiceFeedNotificationFinder.physicalPartitionId(), false);
+		zNullify(behavior, data, ChoiceFeedNotificationFinder.notificationTypeId(), false);
+		zNullify(behavior, data, ChoiceFeedNotificationFinder.feedModeCodeId(), false);
+	}
+
+	public void setDataSourceIdNull()
+	{
+		zNullify(ChoiceFeedNotificationFinder.dataSourceId(), false);
+	}
+
+	public void setPhysicalPartitionIdNull()
+	{
+		zNullify(ChoiceFeedNotificationFinder.physicalPartitionId(), false);
+	}
+
+	public void setNotificationTypeIdNull()
+	{
+		zNullify(ChoiceFeedNotificationFinder.notificationTypeId(), false);
+	}
+
+	public void setFeedModeCodeIdNull()
+	{
+		zNullify(ChoiceFeedNotificationFinder.feedModeCodeId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ChoiceFeedNotificationData _newData = (ChoiceFeedNotificationData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ChoiceFeedNotificationData _newData = (ChoiceFeedNotificationData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ChoiceFeedNotificationData _newData = (ChoiceFeedNotificationData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ChoiceFeedNotification zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ChoiceFeedNotification original = (ChoiceFeedNotification) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ChoiceFeedNotificationFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ChoiceFeedNotificationFinder.getMithraObjectPortal();
+	}
+
+	public ChoiceFeedNotification getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ChoiceFeedNotificationFinder.dataSourceId(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, ChoiceFeedNotificationFinder.eventDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ChoiceFeedNotificationFinder.feedModeCodeId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ChoiceFeedNotificationFinder.notificationTypeId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ChoiceFeedNotificationFinder.physicalPartitionId(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, ChoiceFeedNotificationFinder.sourceUpdateDate(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ChoiceFeedNotificationFinder.uniqueId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ChoiceFeedNotificationAbstract result = (ChoiceFeedNotificationAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,713 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ChoiceFeedNotificationFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ChoiceFeedNotification";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ChoiceFeedNotification";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ChoiceFeedNotification");
+	private static final ChoiceFeedNotificationSingleFinder<ChoiceFeedNotification, Object, ChoiceFeedNotification> finder = new ChoiceFeedNotificationSingleFinder<ChoiceFeedNotification, Object, ChoiceFeedNotification>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ChoiceFeedNotificationFinder.ChoiceFeedNotificationRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("uniqueId");
+		finderMethodMap.addNormalAttributeName("dataSourceId");
+		finderMethodMap.addNormalAttributeName("physicalPartitionId");
+		finderMethodMap.addNormalAttributeName("notificationTypeId");
+		finderMethodMap.addNormalAttributeName("eventDate");
+		finderMethodMap.addNormalAttributeName("sourceUpdateDate");
+		finderMethodMap.addNormalAttributeName("feedModeCodeId");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ChoiceFeedNotification findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ChoiceFeedNotification findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ChoiceFeedNotificationList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ChoiceFeedNotificationList) finder.findMany(operation);
+	}
+
+	public static ChoiceFeedNotificationList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ChoiceFeedNotificationList) finder.findManyBypassCache(operation);
+	}
+
+	private static ChoiceFeedNotification findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ChoiceFeedNotification) FinderUtils.findOne(found);
+	}
+
+	public static ChoiceFeedNotification findByPrimaryKey(int uniqueId)
+	{
+		return finder.findByPrimaryKey(uniqueId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ChoiceFeedNotificationData _castedTargetData = (ChoiceFeedNotificationData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getUniqueId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ChoiceFeedNotification zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ChoiceFeedNotification) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ChoiceFeedNotificationRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ChoiceFeedNotification, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> uniqueId;
+		private IntegerAttribute<ParentOwnerType> dataSourceId;
+		private IntegerAttribute<ParentOwnerType> physicalPartitionId;
+		private IntegerAttribute<ParentOwnerType> notificationTypeId;
+		private TimestampAttribute<ParentOwnerType> eventDate;
+		private TimestampAttribute<ParentOwnerType> sourceUpdateDate;
+		private IntegerAttribute<ParentOwnerType> feedModeCodeId;
+		public ChoiceFeedNotificationRelatedFinder()
+		{
+			super();
+		}
+
+		public ChoiceFeedNotificationRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ChoiceFeedNotificationFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ChoiceFeedNotificationFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ChoiceFeedNotificationFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ChoiceFeedNotificationFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.uniqueId();
+			attributes[1] = this.dataSourceId();
+			attributes[2] = this.physicalPartitionId();
+			attributes[3] = this.notificationTypeId();
+			attributes[4] = this.eventDate();
+			attributes[5] = this.sourceUpdateDate();
+			attributes[6] = this.feedModeCodeId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ChoiceFeedNotification findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ChoiceFeedNotificationFinder.findOne(operation, false);
+		}
+
+		public ChoiceFeedNotification findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ChoiceFeedNotificationFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ChoiceFeedNotification> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ChoiceFeedNotificationList((Operation) operation);
+		}
+
+		public MithraList<? extends ChoiceFeedNotification> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ChoiceFeedNotificationList result = (ChoiceFeedNotificationList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ChoiceFeedNotification> constructEmptyList()
+		{
+			return new ChoiceFeedNotificationList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 537768151;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> uniqueId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.uniqueId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("notification_id_i","","uniqueId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChoiceFeedNotificationFinder.uniqueId(), this.mapper, this.zGetValueSelector());
+				this.uniqueId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> dataSourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.dataSourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("data_source_id_i","","dataSourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChoiceFeedNotificationFinder.dataSourceId(), this.mapper, this.zGetValueSelector());
+				this.dataSourceId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> physicalPartitionId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.physicalPartitionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("physical_partition_id_i","","physicalPartitionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChoiceFeedNotificationFinder.physicalPartitionId(), this.mapper, this.zGetValueSelector());
+				this.physicalPartitionId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> notificationTypeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.notificationTypeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("notification_typ_i","","notificationTypeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChoiceFeedNotificationFinder.notificationTypeId(), this.mapper, this.zGetValueSelector());
+				this.notificationTypeId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> eventDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.eventDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("event_date_d","","eventDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ChoiceFeedNotificationFinder.eventDate(), this.mapper, this.zGetValueSelector());
+				this.eventDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> sourceUpdateDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.sourceUpdateDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("source_upd_d","","sourceUpdateDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ChoiceFeedNotificationFinder.sourceUpdateDate(), this.mapper, this.zGetValueSelector());
+				this.sourceUpdateDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> feedModeCodeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.feedModeCodeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("feed_mode_cd_i","","feedModeCodeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChoiceFeedNotificationFinder.feedModeCodeId(), this.mapper, this.zGetValueSelector());
+				this.feedModeCodeId = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ChoiceFeedNotificationFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ChoiceFeedNotificationFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ChoiceFeedNotificationCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ChoiceFeedNotificationRelatedFinder<ParentOwnerType, ReturnType, ChoiceFeedNotificationList, OwnerType>
+	{
+		public ChoiceFeedNotificationCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ChoiceFeedNotificationCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ChoiceFeedNotificationCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ChoiceFeedNotificationCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ChoiceFeedNotificationSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ChoiceFeedNotificationRelatedFinder<ParentOwnerType, ReturnType, ChoiceFeedNotificationList, OwnerType>
+	implements ToOneFinder
+	{
+		public ChoiceFeedNotificationSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ChoiceFeedNotificationSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ChoiceFeedNotification other)
+		{
+			return this.uniqueId().eq(other.getUniqueId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ChoiceFeedNotification findByPrimaryKey(int uniqueId)
+		{
+			ChoiceFeedNotification _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(uniqueId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ChoiceFeedNotification) _related;
+			if (_related == null)
+			{
+				_op = this.uniqueId().eq(uniqueId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ChoiceFeedNotificationSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ChoiceFeedNotificationSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ChoiceFeedNotificationSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to feed_notification.notification_id_i **/
+	public static IntegerAttribute<ChoiceFeedNotification> uniqueId()
+	{
+		return finder.uniqueId();
+	}
+
+	/** maps to feed_notification.data_source_id_i **/
+	public static IntegerAttribute<ChoiceFeedNotification> dataSourceId()
+	{
+		return finder.dataSourceId();
+	}
+
+	/** maps to feed_notification.physical_partition_id_i **/
+	public static IntegerAttribute<ChoiceFeedNotification> physicalPartitionId()
+	{
+		return finder.physicalPartitionId();
+	}
+
+	/** maps to feed_notification.notification_typ_i **/
+	public static IntegerAttribute<ChoiceFeedNotification> notificationTypeId()
+	{
+		return finder.notificationTypeId();
+	}
+
+	/** maps to feed_notification.event_date_d **/
+	public static TimestampAttribute<ChoiceFeedNotification> eventDate()
+	{
+		return finder.eventDate();
+	}
+
+	/** maps to feed_notification.source_upd_d **/
+	public static TimestampAttribute<ChoiceFeedNotification> sourceUpdateDate()
+	{
+		return finder.sourceUpdateDate();
+	}
+
+	/** maps to feed_notification.feed_mode_cd_i **/
+	public static IntegerAttribute<ChoiceFeedNotification> feedModeCodeId()
+	{
+		return finder.feedModeCodeId();
+	}
+
+	public static Operation eq(ChoiceFeedNotification other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(uniqueId());
+	}
+
+	public static ChoiceFeedNotificationSingleFinder<ChoiceFeedNotification, Object, ChoiceFeedNotification> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			uniqueId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			uniqueId()
+			, uniqueId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ChoiceFeedNotification");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
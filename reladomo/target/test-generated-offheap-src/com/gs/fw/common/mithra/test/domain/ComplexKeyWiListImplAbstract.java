@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ComplexKeyWiListImplAbstract extends DelegatingList<ComplexKeyWi> implements MithraTransactionalList<ComplexKeyWi>
+{
+	public ComplexKeyWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ComplexKeyWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ComplexKeyWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ComplexKeyWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ComplexKeyWi[] elements()
+	{
+		ComplexKeyWi[] result = new ComplexKeyWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ComplexKeyWiListImpl intersection(ComplexKeyWiListImpl another)
+	{
+		return (ComplexKeyWiListImpl)super.intersection(another);
+	}
+
+	public ComplexKeyWiImpl getComplexKeyWiAt(int index)
+	{
+		return (ComplexKeyWiImpl)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ComplexKeyWiFinder.getMithraObjectPortal();
+	}
+
+	public ComplexKeyWiListImpl getNonPersistentCopy()
+	{
+		ComplexKeyWiListImpl result = new ComplexKeyWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ComplexKeyWiListImpl asAdhoc()
+	{
+		return (ComplexKeyWiListImpl) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ComplexKeyWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ComplexKeyWiListImpl merge(MithraTransactionalList<ComplexKeyWi> incoming, TopLevelMergeOptions<ComplexKeyWi> mergeOptions)
+	{
+		return (ComplexKeyWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public ComplexKeyWiListImpl getDetachedCopy()
+	{
+		ComplexKeyWiListImpl result = new ComplexKeyWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setFirstId(int newValue)
+	{
+		zSetInteger(ComplexKeyWiFinder.firstId(), newValue);
+	}
+
+	public void setSecondId(int newValue)
+	{
+		zSetInteger(ComplexKeyWiFinder.secondId(), newValue);
+	}
+
+	public void setCurrentDate(Timestamp newValue)
+	{
+		zSetTimestamp(ComplexKeyWiFinder.currentDate(), newValue);
+	}
+
+	public void setSomeValue(int newValue)
+	{
+		zSetInteger(ComplexKeyWiFinder.someValue(), newValue);
+	}
+
+	public void setSomeValueNull()
+	{
+		zSetAttributeNull(ComplexKeyWiFinder.someValue());
+	}
+}
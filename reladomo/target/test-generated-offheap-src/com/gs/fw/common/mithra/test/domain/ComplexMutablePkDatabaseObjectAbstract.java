@@ -0,0 +1,452 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ComplexMutablePkDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "";
+	private static final String PK_WITH_ALIAS = "t0.ID = ? AND t0.PRIM_MUT_PK1 = ? AND t0.PRIM_MUT_PK2 = ? AND t0.OBJ_MUT_PK1 = ? AND t0.OBJ_MUT_PK2 = ?";
+	private static final String PK_INDEX_COLS = "ID,PRIM_MUT_PK1,PRIM_MUT_PK2,OBJ_MUT_PK1,OBJ_MUT_PK2";
+	protected ComplexMutablePkDatabaseObjectAbstract()
+	{
+		super("ComplexMutablePk", "com.gs.fw.common.mithra.test.domain.ComplexMutablePkFinder",
+			5, 5,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ComplexMutablePkFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ComplexMutablePkFinder.getFinderInstance();
+	}
+
+	public static ComplexMutablePkData allocateOnHeapData()
+	{
+		return new ComplexMutablePkData();
+	}
+
+	public static ComplexMutablePkData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ComplexMutablePkData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ComplexMutablePkData data = new ComplexMutablePkData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(ComplexMutablePkFinder.getPrimaryKeyAttributes(), this, ComplexMutablePkFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(ComplexMutablePkFinder.getPrimaryKeyAttributes(), this, ComplexMutablePkFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(ComplexMutablePkFinder.getPrimaryKeyAttributes(), this, ComplexMutablePkFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(ComplexMutablePkFinder.getPrimaryKeyAttributes(), this, ComplexMutablePkFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ComplexMutablePkFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ComplexMutablePkFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ComplexMutablePk.zConfigFullTx();
+		}
+		else
+		{
+			ComplexMutablePk.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateComplexMutablePkData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkComplexMutablePkData(1, (ComplexMutablePkData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateComplexMutablePkPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getComplexMutablePkTableName();
+	}
+
+	public String getComplexMutablePkTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ComplexMutablePkData data = (ComplexMutablePkData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		stm.setInt(pos++, data._oldgetPrimitiveMutablePk1());
+		stm.setInt(pos++, data._oldgetPrimitiveMutablePk2());
+		stm.setString(pos++, data._oldgetObjMutablePk1());
+		stm.setString(pos++, data._oldgetObjMutablePk2());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ID = ? AND PRIM_MUT_PK1 = ? AND PRIM_MUT_PK2 = ? AND OBJ_MUT_PK1 = ? AND OBJ_MUT_PK2 = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.PRIM_MUT_PK1,t0.PRIM_MUT_PK2,t0.OBJ_MUT_PK1,t0.OBJ_MUT_PK2";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*5);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("PRIM_MUT_PK1");
+		result.append(",").append(databaseAlias).append(".").append("PRIM_MUT_PK2");
+		result.append(",").append(databaseAlias).append(".").append("OBJ_MUT_PK1");
+		result.append(",").append(databaseAlias).append(".").append("OBJ_MUT_PK2");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ComplexMutablePkData inflateComplexMutablePkData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ComplexMutablePkData data = inflateComplexMutablePkPkData(rs, dt);
+		inflateNonPkComplexMutablePkData(6, data, rs, dt);
+		return data;
+	}
+
+	public ComplexMutablePkData inflateComplexMutablePkPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ComplexMutablePkData _data = new ComplexMutablePkData();
+		int _pos = 1;
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		_data.setPrimitiveMutablePk1(_rs.getInt(_pos++));
+		_data._oldsetPrimitiveMutablePk1(_data.getPrimitiveMutablePk1());
+		checkNullPrimitive(_rs, _data, "primitiveMutablePk1");
+		_data.setPrimitiveMutablePk2(_rs.getInt(_pos++));
+		_data._oldsetPrimitiveMutablePk2(_data.getPrimitiveMutablePk2());
+		checkNullPrimitive(_rs, _data, "primitiveMutablePk2");
+		_data.setObjMutablePk1(trimString(_rs.getString(_pos++)));
+		_data._oldsetObjMutablePk1(_data.getObjMutablePk1());
+		_data.setObjMutablePk2(trimString(_rs.getString(_pos++)));
+		_data._oldsetObjMutablePk2(_data.getObjMutablePk2());
+		return _data;
+	}
+
+	public void inflateNonPkComplexMutablePkData(int _pos, ComplexMutablePkData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ComplexMutablePkData _data = _datax;
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "COMPLEX_MUTABLE_PK";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ComplexMutablePkData data = (ComplexMutablePkData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		stm.setInt(pos++, data.getPrimitiveMutablePk1());
+		stm.setInt(pos++, data.getPrimitiveMutablePk2());
+		if(data.isObjMutablePk1Null())
+		{
+			throwNullAttribute("objMutablePk1");
+		}
+
+		stm.setString(pos++, data.getObjMutablePk1());
+		if(data.isObjMutablePk2Null())
+		{
+			throwNullAttribute("objMutablePk2");
+		}
+
+		stm.setString(pos++, data.getObjMutablePk2());
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,PRIM_MUT_PK1,PRIM_MUT_PK2,OBJ_MUT_PK1,OBJ_MUT_PK2";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ComplexMutablePk newObject = new ComplexMutablePk();
+		newObject.zSetFromComplexMutablePkData((ComplexMutablePkData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.PRIM_MUT_PK1,t0.PRIM_MUT_PK2,t0.OBJ_MUT_PK1,t0.OBJ_MUT_PK2";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*5);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ID");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("PRIM_MUT_PK1");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("PRIM_MUT_PK2");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("OBJ_MUT_PK1");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("OBJ_MUT_PK2");
+		return result.toString();
+	}
+}
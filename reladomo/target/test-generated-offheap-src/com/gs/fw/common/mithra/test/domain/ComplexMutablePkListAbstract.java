@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ComplexMutablePkListAbstract extends DelegatingList<ComplexMutablePk> implements MithraTransactionalList<ComplexMutablePk>
+{
+	public ComplexMutablePkListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ComplexMutablePkListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ComplexMutablePkListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ComplexMutablePkListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ComplexMutablePk[] elements()
+	{
+		ComplexMutablePk[] result = new ComplexMutablePk[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ComplexMutablePkList intersection(ComplexMutablePkList another)
+	{
+		return (ComplexMutablePkList)super.intersection(another);
+	}
+
+	public ComplexMutablePk getComplexMutablePkAt(int index)
+	{
+		return (ComplexMutablePk)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ComplexMutablePkFinder.getMithraObjectPortal();
+	}
+
+	public ComplexMutablePkList getNonPersistentCopy()
+	{
+		ComplexMutablePkList result = new ComplexMutablePkList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ComplexMutablePkList asAdhoc()
+	{
+		return (ComplexMutablePkList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ComplexMutablePk> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ComplexMutablePkList merge(MithraTransactionalList<ComplexMutablePk> incoming, TopLevelMergeOptions<ComplexMutablePk> mergeOptions)
+	{
+		return (ComplexMutablePkList) super.merge(incoming, mergeOptions);
+	}
+
+	public ComplexMutablePkList getDetachedCopy()
+	{
+		ComplexMutablePkList result = new ComplexMutablePkList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(ComplexMutablePkFinder.id(), newValue);
+	}
+
+	public void setPrimitiveMutablePk1(int newValue)
+	{
+		zSetInteger(ComplexMutablePkFinder.primitiveMutablePk1(), newValue);
+	}
+
+	public void setPrimitiveMutablePk2(int newValue)
+	{
+		zSetInteger(ComplexMutablePkFinder.primitiveMutablePk2(), newValue);
+	}
+
+	public void setObjMutablePk1(String newValue)
+	{
+		zSetString(ComplexMutablePkFinder.objMutablePk1(), newValue);
+	}
+
+	public void setObjMutablePk2(String newValue)
+	{
+		zSetString(ComplexMutablePkFinder.objMutablePk2(), newValue);
+	}
+}
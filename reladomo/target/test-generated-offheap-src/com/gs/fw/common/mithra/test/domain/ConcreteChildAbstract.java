@@ -0,0 +1,387 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ConcreteChildAbstract extends com.gs.fw.common.mithra.test.domain.AbstractChild implements MithraTransactionalObject, Serializable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ConcreteChild.class.getName());
+	private static final RelationshipHashStrategy forparent = new ParentRhs();
+	private static final class ParentRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ConcreteChildData _castedSrcData = (ConcreteChildData) _srcData;
+			ParentXData _castedTargetData = (ParentXData) _targetData;
+			if (_castedSrcData.getParentKey()!= null && _castedSrcData.getParentKey().equals(_castedTargetData.getParentKey()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ConcreteChildData _castedSrcData = (ConcreteChildData) _srcData;
+			return HashUtil.hash(_castedSrcData.getParentKey());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ConcreteChildData _castedSrcData = (ConcreteChildData) _srcData;
+			return HashUtil.offHeapHash(_castedSrcData.getParentKey());
+		}
+	}
+
+	public ConcreteChildAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ConcreteChild getDetachedCopy() throws MithraBusinessException
+	{
+		return (ConcreteChild) super.getDetachedCopy();
+	}
+
+	public ConcreteChild getNonPersistentCopy() throws MithraBusinessException
+	{
+		ConcreteChild result = (ConcreteChild) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void delete() throws MithraBusinessException
+	{
+		MithraManagerProvider.getMithraManager().mustBeInTransaction("delete for inherited classed must be done in a transaction.");
+		super.delete();
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		MithraManagerProvider.getMithraManager().mustBeInTransaction("insert for inherited classed must be done in a transaction.");
+		super.insert();
+	}
+
+	public ConcreteChild copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ConcreteChild) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ConcreteChild zFindOriginal()
+	{
+		ConcreteChildData data = (ConcreteChildData) this.currentData;
+		Operation op;
+		op = ConcreteChildFinder.childKey().eq(data.getChildKey());
+		return ConcreteChildFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ConcreteChildData();
+	}
+
+	protected void zSetFromConcreteChildData( ConcreteChildData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromConcreteChildData( ConcreteChildData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+		out.writeObject("com.gs.fw.common.mithra.test.domain.ConcreteChildData");
+	}
+
+	public final boolean isChildPropertyNull()
+	{
+		return ((ConcreteChildData) this.zSynchronizedGetData()).isChildPropertyNull();
+	}
+
+	public final String getChildProperty()
+	{
+		ConcreteChildData data = (ConcreteChildData) this.zSynchronizedGetData();
+		return data.getChildProperty();
+	}
+
+	public void setChildProperty(String newValue)
+	{
+		zSetString(ConcreteChildFinder.childProperty(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		super.issuePrimitiveNullSetters(behavior, data);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		super.zPersistDetachedRelationships(_data);
+		ConcreteChildData _newData = (ConcreteChildData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		super.zSetTxDetachedDeleted();
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ConcreteChildData _newData = (ConcreteChildData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		super.zSetNonTxDetachedDeleted();
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ConcreteChildData _newData = (ConcreteChildData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentX.parentKey = this.parentKey</pre>
+	* @see ParentX#getChildren() reverse relationship ParentX.getChildren()
+	* @return The parent
+	*/
+	public ParentX getParent()
+	{
+		ParentX _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ConcreteChildData _data = (ConcreteChildData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ParentXFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forparent, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ParentX) _related;
+				if (_related == null)
+				{
+					_op = ParentXFinder.parentKey().eq(_data.getParentKey());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getParent() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ParentX) _data.getParent();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = ParentXFinder.parentKey().eq(_data.getParentKey());
+					_result = ParentXFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (ConcreteChildData) _behavior.getCurrentDataForWrite(this);
+				_data.setParent(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ParentX) _data.getParent();
+			if (_result == null)
+			{
+				{
+					_op = ParentXFinder.parentKey().eq(_data.getParentKey());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ParentXFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParent(ParentX parent)
+	{
+		ParentX _parent = (ParentX) parent;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ConcreteChildData _data = (ConcreteChildData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getParent();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((ParentX)_prev).getChildren()).zMarkMoved( (ConcreteChild) this);
+			}
+
+			_data.setParent(_parent);
+			_parent.getChildren().add( (ConcreteChild) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_parent == null)
+			{
+				this.setParentKey(null);
+			}
+			else
+			{
+				this.setParentKey(
+					_parent.getParentKey());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerparent(ParentXAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ConcreteChildData _data = (ConcreteChildData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParent(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		super.cascadeInsertImpl();
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ConcreteChild zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ConcreteChild original = (ConcreteChild) super.zCascadeCopyThenInsert();
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		super.cascadeDeleteImpl();
+	}
+
+	public Cache zGetCache()
+	{
+		return ConcreteChildFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ConcreteChildFinder.getMithraObjectPortal();
+	}
+
+	public ConcreteChild getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= super.issueUpdatesForNonPrimaryKeys(behavior, data, newData);
+		changed |= zUpdateString(behavior, data, newData, ConcreteChildFinder.childProperty(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= super.issueUpdatesForPrimaryKeys(behavior, data, newData);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ConcreteChildAbstract result = (ConcreteChildAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
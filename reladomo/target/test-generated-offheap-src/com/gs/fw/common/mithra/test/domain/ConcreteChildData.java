@@ -0,0 +1,237 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ConcreteChildData
+extends AbstractChildData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private static final RelatedFinder[] _allFinders = new RelatedFinder[] 
+	{
+		AbstractChildFinder.getFinderInstance(),
+			ConcreteChildFinder.getFinderInstance()
+	}
+
+	;
+	private String childProperty;
+	public final boolean isChildPropertyNull()
+	{
+		return this.getChildProperty() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		super.zSerializeFullData(out);
+		zWriteNullBits(out);
+		out.writeObject(this.childProperty);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getChildProperty()
+	{
+		return this.childProperty;
+	}
+
+	public int zGetChildPropertyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(childProperty);
+	}
+
+	public void setChildProperty(String value)
+	{
+		this.childProperty = StringPool.getInstance().getOrAddToCache(value, ConcreteChildFinder.isFullCache());
+	}
+
+	public void setChildPropertyNull()
+	{
+		this.setChildProperty(null);
+	}
+
+	protected void copyInto(ConcreteChildData copy, boolean withRelationships)
+	{
+		super.copyInto(copy, withRelationships);
+		copy.childProperty = this.childProperty;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		super.zDeserializeFullData(in);
+		this.childProperty = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ConcreteChildFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getParent()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setParent(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		super.copyNonPkAttributes(newData);
+		final ConcreteChildData concreteChildData = (ConcreteChildData) newData;
+		this.setChildProperty(concreteChildData.getChildProperty());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		if (super.zNonPrimaryKeyAttributesChanged(newData, toleranceForFloatingPointFields)) return true;
+		final ConcreteChildData other = (ConcreteChildData) newData;
+		if (!isChildPropertyNull() ? !getChildProperty().equals(other.getChildProperty()) : !other.isChildPropertyNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ConcreteChildData copy = new ConcreteChildData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ConcreteChildData copy = new ConcreteChildData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return _allFinders[hierarchyDepth].getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ConcreteChildFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ConcreteChildData";
+	}
+}
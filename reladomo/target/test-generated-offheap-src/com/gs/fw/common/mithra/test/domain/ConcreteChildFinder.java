@@ -0,0 +1,713 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ConcreteChildFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ConcreteChild";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ConcreteChild";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ConcreteChild");
+	private static final ConcreteChildSingleFinder<ConcreteChild, Object, ConcreteChild> finder = new ConcreteChildSingleFinder<ConcreteChild, Object, ConcreteChild>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ConcreteChildFinder.ConcreteChildRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("childProperty");
+		finderMethodMap.addNormalAttributeName("parentKey");
+		finderMethodMap.addNormalAttributeName("childKey");
+		finderMethodMap.addRelationshipName("parent");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ConcreteChild findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ConcreteChild findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ConcreteChildList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ConcreteChildList) finder.findMany(operation);
+	}
+
+	public static ConcreteChildList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ConcreteChildList) finder.findManyBypassCache(operation);
+	}
+
+	private static ConcreteChild findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ConcreteChild) FinderUtils.findOne(found);
+	}
+
+	public static ConcreteChild findByPrimaryKey(String childKey)
+	{
+		return finder.findByPrimaryKey(childKey);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ConcreteChildData _castedTargetData = (ConcreteChildData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getChildKey()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static ConcreteChild zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ConcreteChild) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ConcreteChildRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractChildFinder.AbstractChildRelatedFinder<ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> childProperty;
+		private StringAttribute<ParentOwnerType> parentKey;
+		private StringAttribute<ParentOwnerType> childKey;
+		private ConcreteChildParentFinderSubclass<ParentOwnerType> parent;
+		public ConcreteChildRelatedFinder()
+		{
+			super();
+		}
+
+		public ConcreteChildRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ConcreteChildFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ConcreteChildFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ConcreteChildFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ConcreteChildFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.childKey();
+			attributes[1] = this.childProperty();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.parent());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ConcreteChild findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ConcreteChildFinder.findOne(operation, false);
+		}
+
+		public ConcreteChild findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ConcreteChildFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ConcreteChild> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ConcreteChildList((Operation) operation);
+		}
+
+		public MithraList<? extends ConcreteChild> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ConcreteChildList result = (ConcreteChildList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ConcreteChild> constructEmptyList()
+		{
+			return new ConcreteChildList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -141786687;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 1;
+		}
+
+		public StringAttribute<ParentOwnerType> childProperty()
+		{
+			StringAttribute<ParentOwnerType> result = this.childProperty;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("child_property","a","childProperty",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(ConcreteChildFinder.childProperty(), this.mapper, this.zGetValueSelector());
+				this.childProperty = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> parentKey()
+		{
+			StringAttribute<ParentOwnerType> result = this.parentKey;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("parent_key","","parentKey",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(ConcreteChildFinder.parentKey(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parent");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ParentX", "children");
+				this.parentKey = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> childKey()
+		{
+			StringAttribute<ParentOwnerType> result = this.childKey;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("child_key","","childKey",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(ConcreteChildFinder.childKey(), this.mapper, this.zGetValueSelector());
+				this.childKey = result;
+			}
+
+			return result;
+		}
+
+		public ParentXFinder.ParentXSingleFinderForRelatedClasses<ParentOwnerType, ParentX, ? extends ConcreteChild> parent()
+		{
+			ConcreteChildParentFinderSubclass<ParentOwnerType> result = this.parent;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentXFinder.zGetParentXChildrenMapper());
+				newMapper.setToMany(false);
+				result = new ConcreteChildParentFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parent = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ConcreteChildFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ConcreteChildFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ConcreteChildCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ConcreteChildRelatedFinder<ParentOwnerType, ReturnType, ConcreteChildList, OwnerType>
+	{
+		public ConcreteChildCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ConcreteChildCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ConcreteChildCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ConcreteChildCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ConcreteChildSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ConcreteChildRelatedFinder<ParentOwnerType, ReturnType, ConcreteChildList, OwnerType>
+	implements ToOneFinder
+	{
+		public ConcreteChildSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ConcreteChildSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ConcreteChild other)
+		{
+			return this.childKey().eq(other.getChildKey())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ConcreteChild findByPrimaryKey(String childKey)
+		{
+			ConcreteChild _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (childKey != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(childKey);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ConcreteChild) _related;
+			if (_related == null)
+			{
+				_op = this.childKey().eq(childKey);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ConcreteChildSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ConcreteChildSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ConcreteChildSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to CONCRETE_CHILD.child_property **/
+	public static StringAttribute<ConcreteChild> childProperty()
+	{
+		return finder.childProperty();
+	}
+
+	/** maps to CONCRETE_CHILD.parent_key **/
+	public static StringAttribute<ConcreteChild> parentKey()
+	{
+		return finder.parentKey();
+	}
+
+	/** maps to CONCRETE_CHILD.child_key **/
+	public static StringAttribute<ConcreteChild> childKey()
+	{
+		return finder.childKey();
+	}
+
+	public static ParentXFinder.ParentXSingleFinderForRelatedClasses<ConcreteChild, ParentX, ? extends ConcreteChild> parent()
+	{
+		return finder.parent();
+	}
+
+	public static class ConcreteChildParentFinderSubclass<ParentOwnerType> extends ParentXFinder.ParentXSingleFinderForRelatedClasses<ParentOwnerType, ParentX, ConcreteChild>
+	{
+		public ConcreteChildParentFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parent";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ConcreteChildParentFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ParentX plainValueOf(ConcreteChild _obj)
+		{
+			return _obj.getParent();
+		}
+
+		protected ParentXList plainListValueOf(Object _obj)
+		{
+			return ((ConcreteChildList)_obj).getParents();
+		}
+	}
+
+	public static Operation eq(ConcreteChild other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(childKey());
+	}
+
+	public static ConcreteChildSingleFinder<ConcreteChild, Object, ConcreteChild> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			childKey()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			childKey()
+			, childKey()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addTypedIndex(new Attribute[] 
+		{
+			parentKey()
+		}
+
+		, ConcreteChild.class, ConcreteChildData.class);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), new RelatedFinder[] 
+			{
+				AbstractChildFinder.getFinderInstance() 
+			}
+
+			,
+				null, "a", 1,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), new RelatedFinder[] 
+			{
+				AbstractChildFinder.getFinderInstance() 
+			}
+
+			,
+				null, "a", 1,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			AbstractChildFinder.getFinderInstance(),ParentXFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				new RelatedFinder[] 
+			{
+				AbstractChildFinder.getFinderInstance() 
+			}
+
+			, null,
+				"a", 1,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				new RelatedFinder[] 
+			{
+				AbstractChildFinder.getFinderInstance() 
+			}
+
+			, null,
+				"a", 1,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			AbstractChildFinder.getFinderInstance(),ParentXFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ConcreteChild");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,160 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ConcreteChildListAbstract extends DelegatingList<ConcreteChild> implements MithraTransactionalList<ConcreteChild>
+{
+	public ConcreteChildListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ConcreteChildListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ConcreteChildListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ConcreteChildListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ConcreteChild[] elements()
+	{
+		ConcreteChild[] result = new ConcreteChild[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ConcreteChildList intersection(ConcreteChildList another)
+	{
+		return (ConcreteChildList)super.intersection(another);
+	}
+
+	public ConcreteChild getConcreteChildAt(int index)
+	{
+		return (ConcreteChild)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentX.parentKey = this.parentKey</pre>
+	* @see ParentX#getChildren() reverse relationship ParentX.getChildren()
+	* @return The parent
+	*/
+	public ParentXList getParents()
+	{
+		return (ParentXList) this.zGetDelegated().resolveRelationship(this, ConcreteChildFinder.parent());
+	}
+
+	public void zSetParentContainerparent(ParentXAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ConcreteChild item = this.getConcreteChildAt(i);
+			item.zSetParentContainerparent(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ConcreteChildFinder.getMithraObjectPortal();
+	}
+
+	public ConcreteChildList getNonPersistentCopy()
+	{
+		ConcreteChildList result = new ConcreteChildList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ConcreteChildList asAdhoc()
+	{
+		return (ConcreteChildList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ConcreteChild> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ConcreteChildList merge(MithraTransactionalList<ConcreteChild> incoming, TopLevelMergeOptions<ConcreteChild> mergeOptions)
+	{
+		return (ConcreteChildList) super.merge(incoming, mergeOptions);
+	}
+
+	public ConcreteChildList getDetachedCopy()
+	{
+		ConcreteChildList result = new ConcreteChildList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setChildProperty(String newValue)
+	{
+		zSetString(ConcreteChildFinder.childProperty(), newValue);
+	}
+
+	public void setParentKey(String newValue)
+	{
+		zSetString(ConcreteChildFinder.parentKey(), newValue);
+	}
+
+	public void setChildKey(String newValue)
+	{
+		zSetString(ConcreteChildFinder.childKey(), newValue);
+	}
+}
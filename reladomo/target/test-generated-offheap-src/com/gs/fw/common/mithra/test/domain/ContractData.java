@@ -0,0 +1,529 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ContractData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private String accountId;
+	private char buySellInd;
+	private int contractId;
+	private String contractType;
+	private String counterParty;
+	private int productId;
+	private double quantity;
+	private double unitCost;
+	public boolean isAccountIdNull()
+	{
+		return this.getAccountId() == null;
+	}
+
+	public boolean isContractIdNull()
+	{
+		return false;
+	}
+
+	public boolean isContractTypeNull()
+	{
+		return this.getContractType() == null;
+	}
+
+	public boolean isCounterPartyNull()
+	{
+		return this.getCounterParty() == null;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isBuySellIndNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isUnitCostNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isQuantityNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountId);
+		out.writeChar(this.buySellInd);
+		out.writeInt(this.contractId);
+		out.writeObject(this.contractType);
+		out.writeObject(this.counterParty);
+		out.writeInt(this.productId);
+		out.writeDouble(this.quantity);
+		out.writeDouble(this.unitCost);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public int zGetAccountIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountId);
+	}
+
+	public void setAccountId(String value)
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache(value, ContractFinder.isFullCache());
+	}
+
+	public void setAccountIdNull()
+	{
+		this.setAccountId(null);
+	}
+
+	public char getBuySellInd()
+	{
+		return this.buySellInd;
+	}
+
+	public void setBuySellInd(char value)
+	{
+		this.buySellInd = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getContractId()
+	{
+		return this.contractId;
+	}
+
+	public void setContractId(int value)
+	{
+		this.contractId = value;
+	}
+
+	public void setContractIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getContractType()
+	{
+		return this.contractType;
+	}
+
+	public int zGetContractTypeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(contractType);
+	}
+
+	public void setContractType(String value)
+	{
+		this.contractType = StringPool.getInstance().getOrAddToCache(value, ContractFinder.isFullCache());
+	}
+
+	public void setContractTypeNull()
+	{
+		this.setContractType(null);
+	}
+
+	public String getCounterParty()
+	{
+		return this.counterParty;
+	}
+
+	public int zGetCounterPartyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(counterParty);
+	}
+
+	public void setCounterParty(String value)
+	{
+		this.counterParty = StringPool.getInstance().getOrAddToCache(value, ContractFinder.isFullCache());
+	}
+
+	public void setCounterPartyNull()
+	{
+		this.setCounterParty(null);
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+	}
+
+	public void setProductIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public double getQuantity()
+	{
+		return this.quantity;
+	}
+
+	public void setQuantity(double value)
+	{
+		this.quantity = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public double getUnitCost()
+	{
+		return this.unitCost;
+	}
+
+	public void setUnitCost(double value)
+	{
+		this.unitCost = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public void setBuySellIndNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setUnitCostNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setQuantityNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ContractData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.accountId = this.accountId;
+		copy.buySellInd = this.buySellInd;
+		copy.contractId = this.contractId;
+		copy.contractType = this.contractType;
+		copy.counterParty = this.counterParty;
+		copy.productId = this.productId;
+		copy.quantity = this.quantity;
+		copy.unitCost = this.unitCost;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+		this.buySellInd = in.readChar();
+		this.contractId = in.readInt();
+		this.contractType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+		this.counterParty = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+		this.productId = in.readInt();
+		this.quantity = in.readDouble();
+		this.unitCost = in.readDouble();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ContractData otherData = (ContractData) other;
+		if (!isAccountIdNull() ? !getAccountId().equals(otherData.getAccountId()) : !otherData.isAccountIdNull())
+		{
+			return false;
+		}
+
+		if (getContractId() != otherData.getContractId())
+		{
+			return false;
+		}
+
+		if (!isContractTypeNull() ? !getContractType().equals(otherData.getContractType()) : !otherData.isContractTypeNull())
+		{
+			return false;
+		}
+
+		if (getProductId() != otherData.getProductId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.accountId);
+		out.writeInt(this.contractId);
+		out.writeObject(this.contractType);
+		out.writeInt(this.productId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+		this.contractId = in.readInt();
+		this.contractType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+		this.productId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getUnderliers()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setUnderliers(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ContractData contractData = (ContractData) newData;
+		this.setBuySellInd(contractData.getBuySellInd());
+		if (contractData.isBuySellIndNull()) this.setBuySellIndNull();
+		this.setCounterParty(contractData.getCounterParty());
+		this.setQuantity(contractData.getQuantity());
+		if (contractData.isQuantityNull()) this.setQuantityNull();
+		this.setUnitCost(contractData.getUnitCost());
+		if (contractData.isUnitCostNull()) this.setUnitCostNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ContractData other = (ContractData) newData;
+		if ( isBuySellIndNull() != other.isBuySellIndNull() || getBuySellInd() != other.getBuySellInd())
+		{
+			return true;
+		}
+
+		if (!isCounterPartyNull() ? !getCounterParty().equals(other.getCounterParty()) : !other.isCounterPartyNull())
+		{
+			return true;
+		}
+
+		if ( isQuantityNull() != other.isQuantityNull() || Math.abs(getQuantity() - other.getQuantity()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isUnitCostNull() != other.isUnitCostNull() || Math.abs(getUnitCost() - other.getUnitCost()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ContractData copy = new ContractData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ContractData copy = new ContractData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+		result += "contractId: "+(""+getContractId())+ " / ";
+		result += "contractType: "+"'"+getContractType()+"'"+ " / ";
+		result += "productId: "+(""+getProductId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ContractData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ContractFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ContractFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ContractData";
+	}
+}
@@ -0,0 +1,397 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ContractDatabaseObjectAbstract extends MithraAbstractDatabaseObject implements MithraDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "COUNTERPARTY,BUY_SELL_IND,UNIT_COST,QUANTITY";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.COUNTERPARTY,t0.BUY_SELL_IND,t0.UNIT_COST,t0.QUANTITY";
+	private static final String PK_WITH_ALIAS = "t0.CONTRACT_TYPE = ? AND t0.CONTRACT_ID = ? AND t0.ACCOUNT_ID = ? AND t0.PRODUCT_ID = ?";
+	private static final String PK_INDEX_COLS = "CONTRACT_TYPE,CONTRACT_ID,ACCOUNT_ID,PRODUCT_ID";
+	protected ContractDatabaseObjectAbstract()
+	{
+		super("Contract", "com.gs.fw.common.mithra.test.domain.ContractFinder",
+			8, 8,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ContractFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ContractFinder.getFinderInstance();
+	}
+
+	public static ContractData allocateOnHeapData()
+	{
+		return new ContractData();
+	}
+
+	public static ContractData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ContractData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ContractData data = new ContractData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new FullNonDatedCache(ContractFinder.getPrimaryKeyAttributes(), this, ContractFinder.getImmutableAttributes());
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new PartialNonDatedCache(ContractFinder.getPrimaryKeyAttributes(), this, ContractFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ContractFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ContractFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateContractData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkContractData(1, (ContractData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateContractPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getContractTableName();
+	}
+
+	public String getContractTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ContractData data = (ContractData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getContractType());
+		stm.setInt(pos++, data.getContractId());
+		stm.setString(pos++, data.getAccountId());
+		stm.setInt(pos++, data.getProductId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "CONTRACT_TYPE = ? AND CONTRACT_ID = ? AND ACCOUNT_ID = ? AND PRODUCT_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.CONTRACT_TYPE,t0.CONTRACT_ID,t0.ACCOUNT_ID,t0.PRODUCT_ID,t0.COUNTERPARTY,t0.BUY_SELL_IND,t0.UNIT_COST,t0.QUANTITY";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*8);
+		result.append(databaseAlias).append(".").append("CONTRACT_TYPE");
+		result.append(",").append(databaseAlias).append(".").append("CONTRACT_ID");
+		result.append(",").append(databaseAlias).append(".").append("ACCOUNT_ID");
+		result.append(",").append(databaseAlias).append(".").append("PRODUCT_ID");
+		result.append(",").append(databaseAlias).append(".").append("COUNTERPARTY");
+		result.append(",").append(databaseAlias).append(".").append("BUY_SELL_IND");
+		result.append(",").append(databaseAlias).append(".").append("UNIT_COST");
+		result.append(",").append(databaseAlias).append(".").append("QUANTITY");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ContractData inflateContractData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ContractData data = inflateContractPkData(rs, dt);
+		inflateNonPkContractData(5, data, rs, dt);
+		return data;
+	}
+
+	public ContractData inflateContractPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ContractData _data = new ContractData();
+		int _pos = 1;
+		_data.setContractType(trimString(_rs.getString(_pos++)));
+		_data.setContractId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "contractId");
+		_data.setAccountId(trimString(_rs.getString(_pos++)));
+		_data.setProductId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "productId");
+		return _data;
+	}
+
+	public void inflateNonPkContractData(int _pos, ContractData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ContractData _data = _datax;
+			_data.setCounterParty(trimString(_rs.getString(_pos++)));
+			String buySellIndCharValue = _rs.getString(_pos++);
+			boolean buySellIndCharValueisNull = buySellIndCharValue == null || buySellIndCharValue.length() < 1;
+			if(!buySellIndCharValueisNull)
+			{
+				if(buySellIndCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(buySellIndCharValue.length() == 1)
+				{
+					_data.setBuySellInd(buySellIndCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setBuySellIndNull();
+			}
+
+			_data.setUnitCost(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUnitCostNull();
+			}
+
+			_data.setQuantity(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setQuantityNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "CONTRACT";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		Contract newObject = new Contract();
+		newObject.zSetFromContractData((ContractData) newData);
+		return newObject;
+	}
+
+	public void analyzeChangeForReload(PrimaryKeyIndex fullUniqueIndex, MithraDataObject data, List newDataList, List updatedDataList)
+	{
+		Contract object = fullUniqueIndex == null ? null : (Contract) fullUniqueIndex.removeUsingUnderlying(data);
+		if (object == null)
+		{
+			newDataList.add(createObject(data));
+		}
+		else
+		{
+			if (object.zChanged(data))
+			{
+				updatedDataList.add(data);
+			}
+		}
+	}
+}
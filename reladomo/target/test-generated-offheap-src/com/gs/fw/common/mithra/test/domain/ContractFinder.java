@@ -0,0 +1,896 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ContractFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Contract";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Contract";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Contract");
+	private static final ContractSingleFinder<Contract, Object, Contract> finder = new ContractSingleFinder<Contract, Object, Contract>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ContractFinder.ContractRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("contractType");
+		finderMethodMap.addNormalAttributeName("contractId");
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("counterParty");
+		finderMethodMap.addNormalAttributeName("buySellInd");
+		finderMethodMap.addNormalAttributeName("unitCost");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addRelationshipName("underliers");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = ContractFinder.contractType().constructEqualityMapper(UnderlierFinder.contractType());
+			result[1] = UnderlierFinder.contractType().constructEqualityMapper(ContractFinder.contractType());
+			result[2] = ContractFinder.contractId().constructEqualityMapper(UnderlierFinder.contractId());
+			result[3] = UnderlierFinder.contractId().constructEqualityMapper(ContractFinder.contractId());
+			result[4] = ContractFinder.productId().constructEqualityMapper(UnderlierFinder.productId());
+			result[5] = UnderlierFinder.productId().constructEqualityMapper(ContractFinder.productId());
+			result[6] = ContractFinder.accountId().constructEqualityMapper(UnderlierFinder.accountId());
+			result[7] = UnderlierFinder.accountId().constructEqualityMapper(ContractFinder.accountId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Contract findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Contract findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ContractList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ContractList) finder.findMany(operation);
+	}
+
+	public static ContractList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ContractList) finder.findManyBypassCache(operation);
+	}
+
+	private static Contract findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Contract) FinderUtils.findOne(found);
+	}
+
+	public static Contract findByPrimaryKey(String contractType, int contractId, String accountId, int productId)
+	{
+		return finder.findByPrimaryKey(contractType, contractId, accountId, productId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Contract _castedTargetData = (Contract) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getContractType()) && _bean.getI1AsInteger() == _castedTargetData.getContractId() && _bean.getO2AsString().equals(_castedTargetData.getAccountId()) && _bean.getI2AsInteger() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static Contract zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Contract) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ContractRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Contract, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> contractType;
+		private IntegerAttribute<ParentOwnerType> contractId;
+		private StringAttribute<ParentOwnerType> accountId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private StringAttribute<ParentOwnerType> counterParty;
+		private CharAttribute<ParentOwnerType> buySellInd;
+		private DoubleAttribute<ParentOwnerType> unitCost;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private ContractUnderliersFinderSubclass<ParentOwnerType> underliers;
+		public ContractRelatedFinder()
+		{
+			super();
+		}
+
+		public ContractRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ContractFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ContractFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ContractFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ContractFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.contractType();
+			attributes[1] = this.contractId();
+			attributes[2] = this.accountId();
+			attributes[3] = this.productId();
+			attributes[4] = this.counterParty();
+			attributes[5] = this.buySellInd();
+			attributes[6] = this.unitCost();
+			attributes[7] = this.quantity();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.underliers());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Contract findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ContractFinder.findOne(operation, false);
+		}
+
+		public Contract findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ContractFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Contract> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ContractList((Operation) operation);
+		}
+
+		public MithraList<? extends Contract> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ContractList result = (ContractList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Contract> constructEmptyList()
+		{
+			return new ContractList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1962595261;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> contractType()
+		{
+			StringAttribute<ParentOwnerType> result = this.contractType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CONTRACT_TYPE","","contractType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(ContractFinder.contractType(), this.mapper, this.zGetValueSelector());
+				this.contractType = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> contractId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.contractId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CONTRACT_ID","","contractId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ContractFinder.contractId(), this.mapper, this.zGetValueSelector());
+				this.contractId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCOUNT_ID","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(ContractFinder.accountId(), this.mapper, this.zGetValueSelector());
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ContractFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> counterParty()
+		{
+			StringAttribute<ParentOwnerType> result = this.counterParty;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("COUNTERPARTY","","counterParty",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,32,true, false) :
+					new MappedStringAttribute(ContractFinder.counterParty(), this.mapper, this.zGetValueSelector());
+				this.counterParty = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> buySellInd()
+		{
+			CharAttribute<ParentOwnerType> result = this.buySellInd;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("BUY_SELL_IND","","buySellInd",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedCharAttribute(ContractFinder.buySellInd(), this.mapper, this.zGetValueSelector());
+				this.buySellInd = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unitCost()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unitCost;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNIT_COST","","unitCost",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ContractFinder.unitCost(), this.mapper, this.zGetValueSelector());
+				this.unitCost = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ContractFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public UnderlierFinder.UnderlierCollectionFinderForRelatedClasses<ParentOwnerType, UnderlierList, Contract> underliers()
+		{
+			ContractUnderliersFinderSubclass<ParentOwnerType> result = this.underliers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ContractFinder.zGetContractUnderliersReverseMapper());
+				newMapper.setToMany(true);
+				result = new ContractUnderliersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.underliers = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ContractFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ContractFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ContractCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ContractRelatedFinder<ParentOwnerType, ReturnType, ContractList, OwnerType>
+	{
+		public ContractCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ContractCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ContractCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ContractCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ContractSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ContractRelatedFinder<ParentOwnerType, ReturnType, ContractList, OwnerType>
+	implements ToOneFinder
+	{
+		public ContractSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ContractSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Contract other)
+		{
+			return this.contractType().eq(other.getContractType())
+			.and(this.contractId().eq(other.getContractId()))
+			.and(this.accountId().eq(other.getAccountId()))
+			.and(this.productId().eq(other.getProductId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Contract findByPrimaryKey(String contractType, int contractId, String accountId, int productId)
+		{
+			Contract _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (contractType != null && accountId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(contractType);
+				_bean.setI1AsInteger(contractId);
+				_bean.setO2(accountId);
+				_bean.setI2AsInteger(productId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Contract) _related;
+			if (_related == null)
+			{
+				_op = this.contractType().eq(contractType).and(this.contractId().eq(contractId)).and(this.accountId().eq(accountId)).and(this.productId().eq(productId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ContractSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ContractSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ContractSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper underliersReverseMapper = null;
+	public static Mapper zGetContractUnderliersReverseMapper()
+	{
+		if (underliersReverseMapper == null)
+		{
+			underliersReverseMapper = zConstructContractUnderliersReverseMapper();
+		}
+
+		return underliersReverseMapper;
+	}
+
+	private static Mapper underliersMapper = null;
+	public static Mapper zGetContractUnderliersMapper()
+	{
+		if (underliersMapper == null)
+		{
+			underliersMapper = zConstructContractUnderliersMapper();
+		}
+
+		return underliersMapper;
+	}
+
+	private static Mapper underliersPureReverseMapper = null;
+	public static Mapper zGetContractUnderliersPureReverseMapper()
+	{
+		if (underliersPureReverseMapper == null)
+		{
+			underliersPureReverseMapper = zConstructContractUnderliersPureReverseMapper();
+		}
+
+		return underliersPureReverseMapper;
+	}
+
+	private static Mapper zConstructContractUnderliersPureReverseMapper()
+	{
+		InternalList underliersMapperMapperList = new InternalList(4);
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(0));
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(2));
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(4));
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(6));
+		Mapper underliersMapper = new MultiEqualityMapper(underliersMapperMapperList);
+		underliersMapper.setName("underliers");
+		return underliersMapper;
+	}
+
+	private static Mapper zConstructContractUnderliersReverseMapper()
+	{
+		InternalList underliersMapperMapperList = new InternalList(4);
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(0));
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(2));
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(4));
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(6));
+		Mapper underliersMapper = new MultiEqualityMapper(underliersMapperMapperList);
+		underliersMapper.setName("underliers");
+		return underliersMapper;
+	}
+
+	private static Mapper zConstructContractUnderliersMapper()
+	{
+		InternalList underliersMapperMapperList = new InternalList(4);
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(1));
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(3));
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(5));
+		underliersMapperMapperList.add(ContractFinder.zGetConstantJoin(7));
+		Mapper underliersMapper = new MultiEqualityMapper(underliersMapperMapperList);
+		underliersMapper.setName("contract");
+		return underliersMapper;
+	}
+
+	/** maps to CONTRACT.CONTRACT_TYPE **/
+	public static StringAttribute<Contract> contractType()
+	{
+		return finder.contractType();
+	}
+
+	/** maps to CONTRACT.CONTRACT_ID **/
+	public static IntegerAttribute<Contract> contractId()
+	{
+		return finder.contractId();
+	}
+
+	/** maps to CONTRACT.ACCOUNT_ID **/
+	public static StringAttribute<Contract> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to CONTRACT.PRODUCT_ID **/
+	public static IntegerAttribute<Contract> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to CONTRACT.COUNTERPARTY **/
+	public static StringAttribute<Contract> counterParty()
+	{
+		return finder.counterParty();
+	}
+
+	/** maps to CONTRACT.BUY_SELL_IND **/
+	public static CharAttribute<Contract> buySellInd()
+	{
+		return finder.buySellInd();
+	}
+
+	/** maps to CONTRACT.UNIT_COST **/
+	public static DoubleAttribute<Contract> unitCost()
+	{
+		return finder.unitCost();
+	}
+
+	/** maps to CONTRACT.QUANTITY **/
+	public static DoubleAttribute<Contract> quantity()
+	{
+		return finder.quantity();
+	}
+
+	public static UnderlierFinder.UnderlierCollectionFinderForRelatedClasses<Contract, UnderlierList, Contract> underliers()
+	{
+		return finder.underliers();
+	}
+
+	public static class ContractUnderliersFinderSubclass<ParentOwnerType> extends UnderlierFinder.UnderlierCollectionFinderForRelatedClasses<ParentOwnerType, UnderlierList, Contract>
+	{
+		public ContractUnderliersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "underliers";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				UnderlierFinder.accountId(),
+				UnderlierFinder.contractId(),
+				UnderlierFinder.contractType(),
+				UnderlierFinder.productId()).withExtractors(
+				ContractFinder.accountId(),
+				ContractFinder.contractId(),
+				ContractFinder.contractType(),
+				ContractFinder.productId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ContractUnderliersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected UnderlierList plainValueOf(Contract _obj)
+		{
+			return _obj.getUnderliers();
+		}
+
+		protected UnderlierList plainListValueOf(Object _obj)
+		{
+			return ((ContractList)_obj).getUnderliers();
+		}
+	}
+
+	public static Operation eq(Contract other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(contractType());
+	}
+
+	public static ContractSingleFinder<Contract, Object, Contract> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			contractType()
+			, contractId()
+			, accountId()
+			, productId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			contractType()
+			, contractType()
+			, contractId()
+			, accountId()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = unitCost();
+		result[1] = quantity();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Contract");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
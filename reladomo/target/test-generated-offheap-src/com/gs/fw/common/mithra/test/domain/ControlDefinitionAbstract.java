@@ -0,0 +1,751 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ControlDefinitionAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ControlDefinitionFinder.processingDate()
+	, ControlDefinitionFinder.zGetDoubleAttributes(),ControlDefinitionFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ControlDefinition.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public boolean isListDefinitionMappingsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ControlDefinitionData _data = (ControlDefinitionData) _behavior.getCurrentDataForRead(this);
+		ControlListDefinitionMappingList listDefinitionMappings =
+		(ControlListDefinitionMappingList) _data.getListDefinitionMappings();
+		if( listDefinitionMappings != null)
+		{
+			return listDefinitionMappings.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public ControlDefinitionAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ControlDefinitionFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ControlDefinitionData zSynchronizedGetData()
+	{
+		return (ControlDefinitionData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ControlDefinitionFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ControlDefinitionData _data = (ControlDefinitionData) _behavior.getCurrentDataForWrite(this);
+		ControlListDefinitionMappingList listDefinitionMappings =
+		(ControlListDefinitionMappingList ) _data.getListDefinitionMappings();
+		_behavior.insert(this);
+		if (listDefinitionMappings != null)
+		{
+			listDefinitionMappings.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		ControlDefinitionFinder.ControlDefinitionRelatedFinder parentFinder = (ControlDefinitionFinder.ControlDefinitionRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ControlDefinitionData _newData = (ControlDefinitionData) _behavior.getCurrentDataForWrite(this);
+		{
+			ControlListDefinitionMappingList listDefinitionMappings =
+			(ControlListDefinitionMappingList) _newData.getListDefinitionMappings();
+			RelatedFinder dependentFinder = parentFinder.listDefinitionMappings();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, listDefinitionMappings != null, navigationStats);
+			if (listDefinitionMappings != null)
+			{
+				listDefinitionMappings.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public ControlDefinition zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ControlDefinitionData _data = (ControlDefinitionData) _behavior.getCurrentDataForWrite(this);
+		ControlListDefinitionMappingList listDefinitionMappings =
+		(ControlListDefinitionMappingList ) _data.getListDefinitionMappings();
+		ControlDefinition original = (ControlDefinition) _behavior.copyThenInsert(this);
+		if (listDefinitionMappings != null)
+		{
+			listDefinitionMappings.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ControlDefinitionFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ControlDefinition getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ControlDefinitionAbstract result = (ControlDefinitionAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ControlDefinition ) result;
+	}
+
+	public ControlDefinition zFindOriginal()
+	{
+		ControlDefinitionData data = (ControlDefinitionData) this.currentData;
+		Operation op;
+		op = ControlDefinitionFinder.controlCode().eq(data.getControlCode());
+		op = op.and(ControlDefinitionFinder.processingDate().eq(this.getProcessingDate()));
+		return ControlDefinitionFinder.findOne(op);
+	}
+
+	public ControlDefinition getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ControlDefinitionAbstract result = (ControlDefinitionAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ControlDefinition ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isListDefinitionMappingsModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ControlDefinition copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (ControlDefinition) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ControlDefinition copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ControlDefinition) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ControlDefinitionData data = (ControlDefinitionData) this.currentData;
+			Operation op = ControlDefinitionFinder.processingDate().eq(this.processingDate);
+			op = op.and(ControlDefinitionFinder.controlCode().eq(data.getControlCode()));
+			return ControlDefinitionFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isControlCodeNull()
+	{
+		return this.zSynchronizedGetData().isControlCodeNull();
+	}
+
+	public boolean isControlDescNull()
+	{
+		return this.zSynchronizedGetData().isControlDescNull();
+	}
+
+	public boolean isControlShortDescNull()
+	{
+		return this.zSynchronizedGetData().isControlShortDescNull();
+	}
+
+	public boolean isControlTypeNull()
+	{
+		return this.zSynchronizedGetData().isControlTypeNull();
+	}
+
+	public boolean isParentControlCodeNull()
+	{
+		return this.zSynchronizedGetData().isParentControlCodeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isUpdateByNull()
+	{
+		return this.zSynchronizedGetData().isUpdateByNull();
+	}
+
+	public int getControlCode()
+	{
+		return this.zSynchronizedGetData().getControlCode();
+	}
+
+	public void setControlCode(int newValue)
+	{
+		MithraDataObject d = zSetInteger(ControlDefinitionFinder.controlCode(), newValue, true ,false);
+		if (d == null) return;
+		ControlDefinitionData data = (ControlDefinitionData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			ControlListDefinitionMappingList listDefinitionMappings =
+			(ControlListDefinitionMappingList) data.getListDefinitionMappings();
+			if (listDefinitionMappings != null)
+			{
+				listDefinitionMappings.setControlCode(newValue);
+			}
+		}
+	}
+
+	public String getControlDesc()
+	{
+		return this.zSynchronizedGetData().getControlDesc();
+	}
+
+	public void setControlDesc(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 40)
+		{
+			throw new MithraBusinessException("Attribute 'controlDesc' cannot exceed maximum length of 40: " + newValue);
+		}
+
+		zSetString(ControlDefinitionFinder.controlDesc(), newValue, false );
+	}
+
+	public String getControlShortDesc()
+	{
+		return this.zSynchronizedGetData().getControlShortDesc();
+	}
+
+	public void setControlShortDesc(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'controlShortDesc' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(ControlDefinitionFinder.controlShortDesc(), newValue, false );
+	}
+
+	public String getControlType()
+	{
+		return this.zSynchronizedGetData().getControlType();
+	}
+
+	public void setControlType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'controlType' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(ControlDefinitionFinder.controlType(), newValue, false );
+	}
+
+	public int getParentControlCode()
+	{
+		ControlDefinitionData data = this.zSynchronizedGetData();
+		if (data.isParentControlCodeNull()) MithraNullPrimitiveException.throwNew("parentControlCode", data);
+		return data.getParentControlCode();
+	}
+
+	public void setParentControlCode(int newValue)
+	{
+		zSetInteger(ControlDefinitionFinder.parentControlCode(), newValue, false ,true);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ControlDefinitionFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ControlDefinitionFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getUpdateBy()
+	{
+		return this.zSynchronizedGetData().getUpdateBy();
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(ControlDefinitionFinder.updateBy(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, ControlDefinitionFinder.parentControlCode(), false, mustCheckCurrent);
+	}
+
+	public void setParentControlCodeNull()
+	{
+		zNullify(ControlDefinitionFinder.parentControlCode(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ControlDefinitionData _newData = (ControlDefinitionData) _data;
+		{
+			ControlListDefinitionMappingList listDefinitionMappings =
+			(ControlListDefinitionMappingList) _newData.getListDefinitionMappings();
+			if (listDefinitionMappings != null)
+			{
+				listDefinitionMappings.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ControlDefinitionData _newData = (ControlDefinitionData) behavior.getCurrentDataForRead(this);
+		if (_newData.getListDefinitionMappings() != null && !(_newData.getListDefinitionMappings() instanceof NulledRelation))
+		{
+			((ControlListDefinitionMappingList)_newData.getListDefinitionMappings()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ControlDefinitionData _newData = (ControlDefinitionData) behavior.getCurrentDataForRead(this);
+		if (_newData.getListDefinitionMappings() != null && !(_newData.getListDefinitionMappings() instanceof NulledRelation))
+		{
+			((ControlListDefinitionMappingList)_newData.getListDefinitionMappings()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ControlListDefinitionMapping.controlCode = this.controlCode</pre>
+	* @see ControlListDefinitionMapping#getControlDefinition() reverse relationship ControlListDefinitionMapping.getControlDefinition()
+	* @return list definition mappings
+	*/
+	public ControlListDefinitionMappingList getListDefinitionMappings()
+	{
+		ControlListDefinitionMappingList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ControlDefinitionData _data = (ControlDefinitionData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ControlDefinitionFinder.listDefinitionMappings().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (ControlListDefinitionMappingList) _data.getListDefinitionMappings();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ControlDefinitionFinder.listDefinitionMappings().zGetRelationshipMultiExtractor(), this);
+					_result = new ControlListDefinitionMappingList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ListDefinitionMappingsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ControlDefinitionData) _behavior.getCurrentDataForWrite(this);
+				_data.setListDefinitionMappings(_result);
+				if (_result != null) _result.zSetParentContainercontrolDefinition(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ControlListDefinitionMappingList) _data.getListDefinitionMappings();
+			if (_result == null)
+			{
+				_result = new ControlListDefinitionMappingList();
+				_result.zSetAddHandler(new ListDefinitionMappingsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ControlDefinitionData) _behavior.getCurrentDataForWrite(this);
+				_data.setListDefinitionMappings(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ControlListDefinitionMappingList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ListDefinitionMappingsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setListDefinitionMappings(ControlListDefinitionMappingList listDefinitionMappings)
+	{
+		ControlListDefinitionMappingList _listDefinitionMappings = (ControlListDefinitionMappingList) listDefinitionMappings;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ControlDefinitionData _data = (ControlDefinitionData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _listDefinitionMappings != null)
+			{
+				_listDefinitionMappings.zMakeDetached(new RelationshipMultiEqualityOperation(ControlDefinitionFinder.listDefinitionMappings().zGetRelationshipMultiExtractor(), this),
+					_data.getListDefinitionMappings());
+			}
+
+			_data.setListDefinitionMappings(_listDefinitionMappings);
+			if (_listDefinitionMappings != null)
+			{
+				_listDefinitionMappings.setControlCode(_data.getControlCode());
+				_listDefinitionMappings.zSetParentContainercontrolDefinition(this);
+				_listDefinitionMappings.zSetAddHandler(new ListDefinitionMappingsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_listDefinitionMappings.zSetAddHandler(new ListDefinitionMappingsAddHandlerPersisted());
+			ControlListDefinitionMappingList listDefinitionMappingsToDelete = new ControlListDefinitionMappingList();
+			listDefinitionMappingsToDelete.addAll(this.getListDefinitionMappings());
+			for(int i=0;i < _listDefinitionMappings.size(); i++)
+			{
+				ControlListDefinitionMapping item = _listDefinitionMappings.getControlListDefinitionMappingAt(i);
+				if (!listDefinitionMappingsToDelete.remove(item))
+				{
+					item.setControlCode(_data.getControlCode());
+					item.cascadeInsert();
+				}
+			}
+
+			listDefinitionMappingsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return ControlDefinitionFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ControlDefinitionData.ControlDefinitionDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ControlDefinitionData data = (ControlDefinitionData) ControlDefinitionFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ControlDefinition has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromControlDefinitionData( ControlDefinitionData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromControlDefinitionData( ControlDefinitionData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ControlDefinitionFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ControlDefinitionFinder.getMithraObjectPortal();
+	}
+
+	public ControlDefinition getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ControlDefinitionAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ControlDefinitionAbstract from = (ControlDefinitionAbstract) f;
+		ControlDefinitionData newData = from.zSynchronizedGetData();
+		this.setControlDesc(newData.getControlDesc());
+		this.setControlShortDesc(newData.getControlShortDesc());
+		this.setControlType(newData.getControlType());
+		if (from.isParentControlCodeNull())
+		{
+			this.setParentControlCodeNull();
+		}
+		else
+		{
+			this.setParentControlCode(newData.getParentControlCode());
+		}
+
+		this.setUpdateBy(newData.getUpdateBy());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ControlDefinitionData newData = (ControlDefinitionData) d;
+		ControlDefinitionData data = (ControlDefinitionData) nd;
+		if (ControlDefinitionFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ControlDefinitionFinder.controlCode(), false);
+		changed |= zUpdateString(behavior, data, newData, ControlDefinitionFinder.controlDesc(), false);
+		changed |= zUpdateString(behavior, data, newData, ControlDefinitionFinder.controlShortDesc(), false);
+		changed |= zUpdateString(behavior, data, newData, ControlDefinitionFinder.controlType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ControlDefinitionFinder.parentControlCode(), false);
+		changed |= zUpdateString(behavior, data, newData, ControlDefinitionFinder.updateBy(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getListDefinitionMappings().cascadeTerminateAll();
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ControlDefinitionData data = ((ControlDefinitionData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ControlDefinitionData data = ((ControlDefinitionData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ControlDefinitionData data = ((ControlDefinitionData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), ControlDefinitionFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ControlDefinitionData localData = (ControlDefinitionData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class ListDefinitionMappingsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ControlListDefinitionMapping item = (ControlListDefinitionMapping) relatedObject;
+			item.setControlCode(getControlCode());
+			item.zSetParentContainercontrolDefinition(ControlDefinitionAbstract.this);
+		}
+	}
+
+	protected class ListDefinitionMappingsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ControlListDefinitionMapping item = (ControlListDefinitionMapping) relatedObject;
+			item.setControlCode(getControlCode());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,919 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ControlDefinitionFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ControlDefinition";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ControlDefinition";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ControlDefinition");
+	private static final ControlDefinitionSingleFinder<ControlDefinition, Object, ControlDefinition> finder = new ControlDefinitionSingleFinder<ControlDefinition, Object, ControlDefinition>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ControlDefinitionFinder.ControlDefinitionRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("controlCode");
+		finderMethodMap.addNormalAttributeName("controlType");
+		finderMethodMap.addNormalAttributeName("controlShortDesc");
+		finderMethodMap.addNormalAttributeName("controlDesc");
+		finderMethodMap.addNormalAttributeName("updateBy");
+		finderMethodMap.addNormalAttributeName("parentControlCode");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("listDefinitionMappings");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = ControlDefinitionFinder.controlCode().constructEqualityMapper(ControlListDefinitionMappingFinder.controlCode());
+			result[1] = ControlListDefinitionMappingFinder.controlCode().constructEqualityMapper(ControlDefinitionFinder.controlCode());
+			result[2] = ControlDefinitionFinder.processingDate().constructEqualityMapper(ControlListDefinitionMappingFinder.processingDate());
+			result[3] = ControlListDefinitionMappingFinder.processingDate().constructEqualityMapper(ControlDefinitionFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ControlDefinition findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ControlDefinition findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ControlDefinitionList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ControlDefinitionList) finder.findMany(operation);
+	}
+
+	public static ControlDefinitionList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ControlDefinitionList) finder.findManyBypassCache(operation);
+	}
+
+	private static ControlDefinition findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ControlDefinition) FinderUtils.findOne(found);
+	}
+
+	public static ControlDefinition findByPrimaryKey(int controlCode, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(controlCode, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ControlDefinitionData _castedTargetData = (ControlDefinitionData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getControlCode())
+			{
+				return ControlDefinitionFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ControlDefinition zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ControlDefinition) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ControlDefinitionRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ControlDefinition, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> controlCode;
+		private StringAttribute<ParentOwnerType> controlType;
+		private StringAttribute<ParentOwnerType> controlShortDesc;
+		private StringAttribute<ParentOwnerType> controlDesc;
+		private StringAttribute<ParentOwnerType> updateBy;
+		private IntegerAttribute<ParentOwnerType> parentControlCode;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ControlDefinitionListDefinitionMappingsFinderSubclass<ParentOwnerType> listDefinitionMappings;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ControlDefinitionRelatedFinder()
+		{
+			super();
+		}
+
+		public ControlDefinitionRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlDefinitionFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ControlDefinitionFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ControlDefinitionFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ControlDefinitionFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.controlCode();
+			attributes[1] = this.controlType();
+			attributes[2] = this.controlShortDesc();
+			attributes[3] = this.controlDesc();
+			attributes[4] = this.updateBy();
+			attributes[5] = this.parentControlCode();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.listDefinitionMappings());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.listDefinitionMappings());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ControlDefinition findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ControlDefinitionFinder.findOne(operation, false);
+		}
+
+		public ControlDefinition findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ControlDefinitionFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ControlDefinition> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ControlDefinitionList((Operation) operation);
+		}
+
+		public MithraList<? extends ControlDefinition> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ControlDefinitionList result = (ControlDefinitionList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ControlDefinition> constructEmptyList()
+		{
+			return new ControlDefinitionList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 772100303;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> controlCode()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.controlCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CONTROL_CD","","controlCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(ControlDefinitionFinder.controlCode(), this.mapper, this.zGetValueSelector());
+				this.controlCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> controlType()
+		{
+			StringAttribute<ParentOwnerType> result = this.controlType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CONTROL_TYPE","","controlType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,20,-1,-1,10,true, false) :
+					new MappedStringAttribute(ControlDefinitionFinder.controlType(), this.mapper, this.zGetValueSelector());
+				this.controlType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> controlShortDesc()
+		{
+			StringAttribute<ParentOwnerType> result = this.controlShortDesc;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CONTROL_SHORT_DESC","","controlShortDesc",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,16,-1,-1,10,true, false) :
+					new MappedStringAttribute(ControlDefinitionFinder.controlShortDesc(), this.mapper, this.zGetValueSelector());
+				this.controlShortDesc = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> controlDesc()
+		{
+			StringAttribute<ParentOwnerType> result = this.controlDesc;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CONTROL_DESC","","controlDesc",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,40,true, false) :
+					new MappedStringAttribute(ControlDefinitionFinder.controlDesc(), this.mapper, this.zGetValueSelector());
+				this.controlDesc = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> updateBy()
+		{
+			StringAttribute<ParentOwnerType> result = this.updateBy;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("UPDATE_BY","","updateBy",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,44,-1,-1,30,true, false) :
+					new MappedStringAttribute(ControlDefinitionFinder.updateBy(), this.mapper, this.zGetValueSelector());
+				this.updateBy = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> parentControlCode()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.parentControlCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PARENT_CONTROL_CD","","parentControlCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,24,4,0,false, false) :
+					new MappedIntegerAttribute(ControlDefinitionFinder.parentControlCode(), this.mapper, this.zGetValueSelector());
+				this.parentControlCode = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_DT","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,ControlDefinitionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ControlDefinitionFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_DT","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,36,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,ControlDefinitionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ControlDefinitionFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ControlDefinitionFinder.processingDateInfinity,false,false,ControlDefinitionFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ControlDefinitionFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ControlListDefinitionMappingFinder.ControlListDefinitionMappingCollectionFinderForRelatedClasses<ParentOwnerType, ControlListDefinitionMappingList, ControlDefinition> listDefinitionMappings()
+		{
+			ControlDefinitionListDefinitionMappingsFinderSubclass<ParentOwnerType> result = this.listDefinitionMappings;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ControlDefinitionFinder.zGetControlDefinitionListDefinitionMappingsReverseMapper());
+				newMapper.setToMany(true);
+				result = new ControlDefinitionListDefinitionMappingsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.listDefinitionMappings = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ControlDefinitionFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ControlDefinitionFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ControlDefinitionCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ControlDefinitionRelatedFinder<ParentOwnerType, ReturnType, ControlDefinitionList, OwnerType>
+	{
+		public ControlDefinitionCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ControlDefinitionCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ControlDefinitionCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ControlDefinitionCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ControlDefinitionSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ControlDefinitionRelatedFinder<ParentOwnerType, ReturnType, ControlDefinitionList, OwnerType>
+	implements ToOneFinder
+	{
+		public ControlDefinitionSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ControlDefinitionSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ControlDefinition other)
+		{
+			return this.controlCode().eq(other.getControlCode())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ControlDefinition findByPrimaryKey(int controlCode, Timestamp processingDate)
+		{
+			ControlDefinition _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(controlCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ControlDefinition) _related;
+			if (_related == null)
+			{
+				_op = this.controlCode().eq(controlCode).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ControlDefinitionSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ControlDefinitionSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ControlDefinitionSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper listDefinitionMappingsReverseMapper = null;
+	public static Mapper zGetControlDefinitionListDefinitionMappingsReverseMapper()
+	{
+		if (listDefinitionMappingsReverseMapper == null)
+		{
+			listDefinitionMappingsReverseMapper = zConstructControlDefinitionListDefinitionMappingsReverseMapper();
+		}
+
+		return listDefinitionMappingsReverseMapper;
+	}
+
+	private static Mapper listDefinitionMappingsMapper = null;
+	public static Mapper zGetControlDefinitionListDefinitionMappingsMapper()
+	{
+		if (listDefinitionMappingsMapper == null)
+		{
+			listDefinitionMappingsMapper = zConstructControlDefinitionListDefinitionMappingsMapper();
+		}
+
+		return listDefinitionMappingsMapper;
+	}
+
+	private static Mapper listDefinitionMappingsPureReverseMapper = null;
+	public static Mapper zGetControlDefinitionListDefinitionMappingsPureReverseMapper()
+	{
+		if (listDefinitionMappingsPureReverseMapper == null)
+		{
+			listDefinitionMappingsPureReverseMapper = zConstructControlDefinitionListDefinitionMappingsPureReverseMapper();
+		}
+
+		return listDefinitionMappingsPureReverseMapper;
+	}
+
+	private static Mapper zConstructControlDefinitionListDefinitionMappingsPureReverseMapper()
+	{
+		InternalList listDefinitionMappingsMapperMapperList = new InternalList(2);
+		listDefinitionMappingsMapperMapperList.add(ControlDefinitionFinder.zGetConstantJoin(0));
+		listDefinitionMappingsMapperMapperList.add(ControlDefinitionFinder.zGetConstantJoin(2));
+		Mapper listDefinitionMappingsMapper = new MultiEqualityMapper(listDefinitionMappingsMapperMapperList);
+		listDefinitionMappingsMapper.setName("listDefinitionMappings");
+		return listDefinitionMappingsMapper;
+	}
+
+	private static Mapper zConstructControlDefinitionListDefinitionMappingsReverseMapper()
+	{
+		InternalList listDefinitionMappingsMapperMapperList = new InternalList(2);
+		listDefinitionMappingsMapperMapperList.add(ControlDefinitionFinder.zGetConstantJoin(0));
+		listDefinitionMappingsMapperMapperList.add(ControlDefinitionFinder.zGetConstantJoin(2));
+		Mapper listDefinitionMappingsMapper = new MultiEqualityMapper(listDefinitionMappingsMapperMapperList);
+		listDefinitionMappingsMapper.setName("listDefinitionMappings");
+		return listDefinitionMappingsMapper;
+	}
+
+	private static Mapper zConstructControlDefinitionListDefinitionMappingsMapper()
+	{
+		InternalList listDefinitionMappingsMapperMapperList = new InternalList(2);
+		listDefinitionMappingsMapperMapperList.add(ControlDefinitionFinder.zGetConstantJoin(1));
+		listDefinitionMappingsMapperMapperList.add(ControlDefinitionFinder.zGetConstantJoin(3));
+		Mapper listDefinitionMappingsMapper = new MultiEqualityMapper(listDefinitionMappingsMapperMapperList);
+		listDefinitionMappingsMapper.setName("controlDefinition");
+		return listDefinitionMappingsMapper;
+	}
+
+	/** maps to CONTROL_DEF.CONTROL_CD **/
+	public static IntegerAttribute<ControlDefinition> controlCode()
+	{
+		return finder.controlCode();
+	}
+
+	/** maps to CONTROL_DEF.CONTROL_TYPE **/
+	public static StringAttribute<ControlDefinition> controlType()
+	{
+		return finder.controlType();
+	}
+
+	/** maps to CONTROL_DEF.CONTROL_SHORT_DESC **/
+	public static StringAttribute<ControlDefinition> controlShortDesc()
+	{
+		return finder.controlShortDesc();
+	}
+
+	/** maps to CONTROL_DEF.CONTROL_DESC **/
+	public static StringAttribute<ControlDefinition> controlDesc()
+	{
+		return finder.controlDesc();
+	}
+
+	/** maps to CONTROL_DEF.UPDATE_BY **/
+	public static StringAttribute<ControlDefinition> updateBy()
+	{
+		return finder.updateBy();
+	}
+
+	/** maps to CONTROL_DEF.PARENT_CONTROL_CD **/
+	public static IntegerAttribute<ControlDefinition> parentControlCode()
+	{
+		return finder.parentControlCode();
+	}
+
+	/** maps to CONTROL_DEF.IN_DT **/
+	public static TimestampAttribute<ControlDefinition> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to CONTROL_DEF.OUT_DT **/
+	public static TimestampAttribute<ControlDefinition> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ControlDefinition> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ControlListDefinitionMappingFinder.ControlListDefinitionMappingCollectionFinderForRelatedClasses<ControlDefinition, ControlListDefinitionMappingList, ControlDefinition> listDefinitionMappings()
+	{
+		return finder.listDefinitionMappings();
+	}
+
+	public static class ControlDefinitionListDefinitionMappingsFinderSubclass<ParentOwnerType> extends ControlListDefinitionMappingFinder.ControlListDefinitionMappingCollectionFinderForRelatedClasses<ParentOwnerType, ControlListDefinitionMappingList, ControlDefinition>
+	{
+		public ControlDefinitionListDefinitionMappingsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "listDefinitionMappings";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ControlListDefinitionMappingFinder.controlCode(),
+				ControlListDefinitionMappingFinder.processingDate()).withExtractors(
+				ControlDefinitionFinder.controlCode(),
+				ControlDefinitionFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ControlDefinitionListDefinitionMappingsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((ControlDefinition) _obj).isListDefinitionMappingsModifiedSinceDetachment();
+		}
+
+		protected ControlListDefinitionMappingList plainValueOf(ControlDefinition _obj)
+		{
+			return _obj.getListDefinitionMappings();
+		}
+
+		protected ControlListDefinitionMappingList plainListValueOf(Object _obj)
+		{
+			return ((ControlDefinitionList)_obj).getListDefinitionMappings();
+		}
+	}
+
+	public static Operation eq(ControlDefinition other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(controlCode());
+	}
+
+	public static ControlDefinitionSingleFinder<ControlDefinition, Object, ControlDefinition> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			controlCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			controlCode()
+			, controlCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ControlDefinition");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,1098 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ControlListDefinitionMappingData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 44;
+	boolean isControlCodeNull();
+	int getControlCode();
+	void setControlCode(int value);
+	void setControlCodeNull();
+	boolean isDefaultRestrictionLetterNull();
+	String getDefaultRestrictionLetter();
+	void setDefaultRestrictionLetter(String value);
+	void setDefaultRestrictionLetterNull();
+	int zGetDefaultRestrictionLetterAsInt();
+	boolean isDefaultSeverityNull();
+	int getDefaultSeverity();
+	void setDefaultSeverity(int value);
+	void setDefaultSeverityNull();
+	boolean isListIdNull();
+	String getListId();
+	void setListId(String value);
+	void setListIdNull();
+	int zGetListIdAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isUpdateByNull();
+	String getUpdateBy();
+	void setUpdateBy(String value);
+	void setUpdateByNull();
+	int zGetUpdateByAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getControlDefinition();
+	void setControlDefinition(Object related);
+	Object getListDefinition();
+	void setListDefinition(Object related);
+	public class ControlListDefinitionMappingDataOnHeap implements ControlListDefinitionMappingData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private int controlCode;
+		private String defaultRestrictionLetter;
+		private int defaultSeverity;
+		private String listId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String updateBy;
+		public boolean isControlCodeNull()
+		{
+			return false;
+		}
+
+		public boolean isDefaultRestrictionLetterNull()
+		{
+			return this.getDefaultRestrictionLetter() == null;
+		}
+
+		public boolean isListIdNull()
+		{
+			return this.getListId() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return this.getUpdateBy() == null;
+		}
+
+		public boolean isDefaultSeverityNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.controlCode);
+			out.writeObject(this.defaultRestrictionLetter);
+			out.writeInt(this.defaultSeverity);
+			out.writeObject(this.listId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, ControlListDefinitionMappingFinder.processingDate().getInfinityDate());
+			out.writeObject(this.updateBy);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public int getControlCode()
+		{
+			return this.controlCode;
+		}
+
+		public void setControlCode(int value)
+		{
+			this.controlCode = value;
+		}
+
+		public void setControlCodeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getDefaultRestrictionLetter()
+		{
+			return this.defaultRestrictionLetter;
+		}
+
+		public int zGetDefaultRestrictionLetterAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(defaultRestrictionLetter);
+		}
+
+		public void setDefaultRestrictionLetter(String value)
+		{
+			this.defaultRestrictionLetter = StringPool.getInstance().getOrAddToCache(value, ControlListDefinitionMappingFinder.isFullCache());
+		}
+
+		public void setDefaultRestrictionLetterNull()
+		{
+			this.setDefaultRestrictionLetter(null);
+		}
+
+		public int getDefaultSeverity()
+		{
+			return this.defaultSeverity;
+		}
+
+		public void setDefaultSeverity(int value)
+		{
+			this.defaultSeverity = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public String getListId()
+		{
+			return this.listId;
+		}
+
+		public int zGetListIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(listId);
+		}
+
+		public void setListId(String value)
+		{
+			this.listId = StringPool.getInstance().getOrAddToCache(value, ControlListDefinitionMappingFinder.isFullCache());
+		}
+
+		public void setListIdNull()
+		{
+			this.setListId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, ControlListDefinitionMappingFinder.isFullCache(), ControlListDefinitionMappingFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, ControlListDefinitionMappingFinder.isFullCache(), ControlListDefinitionMappingFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUpdateBy()
+		{
+			return this.updateBy;
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(updateBy);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			this.updateBy = StringPool.getInstance().getOrAddToCache(value, ControlListDefinitionMappingFinder.isFullCache());
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public void setDefaultSeverityNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(ControlListDefinitionMappingDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.controlCode = this.controlCode;
+			copy.defaultRestrictionLetter = this.defaultRestrictionLetter;
+			copy.defaultSeverity = this.defaultSeverity;
+			copy.listId = this.listId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.updateBy = this.updateBy;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[2];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.controlCode = in.readInt();
+			this.defaultRestrictionLetter = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ControlListDefinitionMappingFinder.isFullCache());
+			this.defaultSeverity = in.readInt();
+			this.listId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ControlListDefinitionMappingFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ControlListDefinitionMappingFinder.isFullCache(), ControlListDefinitionMappingFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, ControlListDefinitionMappingFinder.processingDate().getInfinityDate()), ControlListDefinitionMappingFinder.isFullCache(), ControlListDefinitionMappingFinder.isOffHeap());
+			this.updateBy = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ControlListDefinitionMappingFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final ControlListDefinitionMappingData otherData = (ControlListDefinitionMappingData) other;
+			if (getControlCode() != otherData.getControlCode())
+			{
+				return false;
+			}
+
+			if (!isListIdNull() ? !getListId().equals(otherData.getListId()) : !otherData.isListIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.controlCode);
+			out.writeObject(this.listId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, ControlListDefinitionMappingFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.controlCode = in.readInt();
+			this.listId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ControlListDefinitionMappingFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ControlListDefinitionMappingFinder.isFullCache(), ControlListDefinitionMappingFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, ControlListDefinitionMappingFinder.processingDate().getInfinityDate()), ControlListDefinitionMappingFinder.isFullCache(), ControlListDefinitionMappingFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getControlDefinition()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setControlDefinition(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getListDefinition()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setListDefinition(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			ControlListDefinitionMappingDataOffHeap data = new ControlListDefinitionMappingDataOffHeap();
+			data.setControlCode(this.getControlCode());
+			data.setDefaultRestrictionLetter(this.getDefaultRestrictionLetter());
+			data.setDefaultSeverity(this.getDefaultSeverity());
+			if (this.isDefaultSeverityNull()) data.setDefaultSeverityNull();
+			data.setListId(this.getListId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setUpdateBy(this.getUpdateBy());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ControlListDefinitionMappingData controlListDefinitionMappingData = (ControlListDefinitionMappingData) newData;
+			this.setDefaultRestrictionLetter(controlListDefinitionMappingData.getDefaultRestrictionLetter());
+			this.setDefaultSeverity(controlListDefinitionMappingData.getDefaultSeverity());
+			if (controlListDefinitionMappingData.isDefaultSeverityNull()) this.setDefaultSeverityNull();
+			this.setProcessingDateFrom(controlListDefinitionMappingData.getProcessingDateFrom());
+			this.setProcessingDateTo(controlListDefinitionMappingData.getProcessingDateTo());
+			this.setUpdateBy(controlListDefinitionMappingData.getUpdateBy());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ControlListDefinitionMappingData other = (ControlListDefinitionMappingData) newData;
+			if (!isDefaultRestrictionLetterNull() ? !getDefaultRestrictionLetter().equals(other.getDefaultRestrictionLetter()) : !other.isDefaultRestrictionLetterNull())
+			{
+				return true;
+			}
+
+			if ( isDefaultSeverityNull() != other.isDefaultSeverityNull() || getDefaultSeverity() != other.getDefaultSeverity())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ControlListDefinitionMappingDataOnHeap copy = new ControlListDefinitionMappingDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ControlListDefinitionMappingDataOnHeap copy = new ControlListDefinitionMappingDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "controlCode: "+(""+getControlCode())+ " / ";
+			result += "listId: "+"'"+getListId()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ControlListDefinitionMappingData otherData = (ControlListDefinitionMappingData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ControlListDefinitionMappingData otherData = (ControlListDefinitionMappingData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlListDefinitionMappingData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ControlListDefinitionMappingFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ControlListDefinitionMappingFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlListDefinitionMappingData";
+		}
+	}
+
+	public class ControlListDefinitionMappingDataOffHeap extends MithraOffHeapDataObject implements ControlListDefinitionMappingData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public ControlListDefinitionMappingDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 32);
+		}
+
+		public ControlListDefinitionMappingDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isControlCodeNull()
+		{
+			return false;
+		}
+
+		public boolean isDefaultRestrictionLetterNull()
+		{
+			return zIsStringNull(_storage, 16);
+		}
+
+		public boolean isDefaultSeverityNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isListIdNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return zIsStringNull(_storage, 40);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getControlCode());
+			out.writeObject(this.getDefaultRestrictionLetter());
+			out.writeInt(this.getDefaultSeverity());
+			out.writeObject(this.getListId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ControlListDefinitionMappingFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getUpdateBy());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isDefaultSeverityNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public int getControlCode()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setControlCode(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setControlCodeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getDefaultRestrictionLetter()
+		{
+			return zGetString(_storage, 16);
+		}
+
+		public int zGetDefaultRestrictionLetterAsInt()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setDefaultRestrictionLetter(String value)
+		{
+			zSetString(_storage, value, 16);
+		}
+
+		public void setDefaultRestrictionLetterNull()
+		{
+			this.setDefaultRestrictionLetter(null);
+		}
+
+		public int getDefaultSeverity()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setDefaultSeverity(int value)
+		{
+			zSetInteger(_storage, value, 20, 4, 0);
+		}
+
+		public String getListId()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetListIdAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setListId(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setListIdNull()
+		{
+			this.setListId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUpdateBy()
+		{
+			return zGetString(_storage, 40);
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			zSetString(_storage, value, 40);
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public void setDefaultSeverityNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(ControlListDefinitionMappingDataOnHeap copy, boolean withRelationships)
+		{
+			copy.controlCode = this.getControlCode();
+			copy.defaultRestrictionLetter = this.getDefaultRestrictionLetter();
+			copy.defaultSeverity = this.getDefaultSeverity();
+			copy.listId = this.getListId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.updateBy = this.getUpdateBy();
+			if (isDefaultSeverityNull())
+			{
+				copy.setDefaultSeverityNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 16);
+			zSetInteger(_storage, in.readInt(), 20, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetString(_storage, (String)in.readObject(), 40);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof ControlListDefinitionMappingDataOffHeap)
+			{
+				final ControlListDefinitionMappingDataOffHeap otherData = (ControlListDefinitionMappingDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final ControlListDefinitionMappingData otherData = (ControlListDefinitionMappingData) other;
+			if (getControlCode() != otherData.getControlCode())
+			{
+				return false;
+			}
+
+			if (!isListIdNull() ? !getListId().equals(otherData.getListId()) : !otherData.isListIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getControlCode());
+			out.writeObject(this.getListId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ControlListDefinitionMappingFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getControlDefinition()
+		{
+			return null;
+		}
+
+		public void setControlDefinition(Object related)
+		{
+		}
+
+		public Object getListDefinition()
+		{
+			return null;
+		}
+
+		public void setListDefinition(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ControlListDefinitionMappingData controlListDefinitionMappingData = (ControlListDefinitionMappingData) newData;
+			this.setDefaultRestrictionLetter(controlListDefinitionMappingData.getDefaultRestrictionLetter());
+			this.setDefaultSeverity(controlListDefinitionMappingData.getDefaultSeverity());
+			if (controlListDefinitionMappingData.isDefaultSeverityNull()) this.setDefaultSeverityNull();
+			this.setProcessingDateFrom(controlListDefinitionMappingData.getProcessingDateFrom());
+			this.setProcessingDateTo(controlListDefinitionMappingData.getProcessingDateTo());
+			this.setUpdateBy(controlListDefinitionMappingData.getUpdateBy());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ControlListDefinitionMappingData other = (ControlListDefinitionMappingData) newData;
+			if (!isDefaultRestrictionLetterNull() ? !getDefaultRestrictionLetter().equals(other.getDefaultRestrictionLetter()) : !other.isDefaultRestrictionLetterNull())
+			{
+				return true;
+			}
+
+			if ( isDefaultSeverityNull() != other.isDefaultSeverityNull() || getDefaultSeverity() != other.getDefaultSeverity())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ControlListDefinitionMappingDataOnHeap copy = new ControlListDefinitionMappingDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ControlListDefinitionMappingDataOnHeap copy = new ControlListDefinitionMappingDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "controlCode: "+(""+getControlCode())+ " / ";
+			result += "listId: "+"'"+getListId()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ControlListDefinitionMappingData otherData = (ControlListDefinitionMappingData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ControlListDefinitionMappingData otherData = (ControlListDefinitionMappingData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlListDefinitionMappingData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ControlListDefinitionMappingFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ControlListDefinitionMappingFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlListDefinitionMappingData";
+		}
+	}
+}
@@ -0,0 +1,566 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ControlListDefinitionMappingDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "DEFAULT_SEVERITY,DEFAULT_RESTRICTION_LETTER,UPDATE_BY,IN_DT,OUT_DT";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.DEFAULT_SEVERITY,t0.DEFAULT_RESTRICTION_LETTER,t0.UPDATE_BY,t0.IN_DT,t0.OUT_DT";
+	private static final String PK_WITH_ALIAS = "t0.LIST_ID = ? AND t0.CONTROL_CD = ?";
+	private static final String PK_INDEX_COLS = "LIST_ID,CONTROL_CD";
+	protected ControlListDefinitionMappingDatabaseObjectAbstract()
+	{
+		super("ControlListDefinitionMapping", "com.gs.fw.common.mithra.test.domain.ControlListDefinitionMappingFinder",
+			7, 7,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ControlListDefinitionMappingFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ControlListDefinitionMappingFinder.getFinderInstance();
+	}
+
+	public static ControlListDefinitionMappingData allocateOnHeapData()
+	{
+		return new ControlListDefinitionMappingData.ControlListDefinitionMappingDataOnHeap();
+	}
+
+	public static ControlListDefinitionMappingData allocateOffHeapData()
+	{
+		return new ControlListDefinitionMappingData.ControlListDefinitionMappingDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ControlListDefinitionMappingData.ControlListDefinitionMappingDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), ControlListDefinitionMappingFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ControlListDefinitionMappingData data = new ControlListDefinitionMappingData.ControlListDefinitionMappingDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), ControlListDefinitionMappingFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(ControlListDefinitionMappingData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.ControlListDefinitionMapping", ControlListDefinitionMappingFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("ControlListDefinitionMapping"));
+			ControlListDefinitionMappingData.ControlListDefinitionMappingDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(ControlListDefinitionMappingFinder.getPrimaryKeyAttributes(), ControlListDefinitionMappingFinder.getAsOfAttributes(), this, ControlListDefinitionMappingFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(ControlListDefinitionMappingFinder.getPrimaryKeyAttributes(), ControlListDefinitionMappingFinder.getAsOfAttributes(), this, ControlListDefinitionMappingFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(ControlListDefinitionMappingFinder.getPrimaryKeyAttributes(), ControlListDefinitionMappingFinder.getAsOfAttributes(), this, ControlListDefinitionMappingFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(ControlListDefinitionMappingFinder.getPrimaryKeyAttributes(), ControlListDefinitionMappingFinder.getAsOfAttributes(), this, ControlListDefinitionMappingFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(ControlListDefinitionMappingFinder.getPrimaryKeyAttributes(), ControlListDefinitionMappingFinder.getAsOfAttributes(), this, ControlListDefinitionMappingFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(ControlListDefinitionMappingData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.ControlListDefinitionMapping", ControlListDefinitionMappingFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			ControlListDefinitionMappingData.ControlListDefinitionMappingDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(ControlListDefinitionMappingFinder.getPrimaryKeyAttributes(), ControlListDefinitionMappingFinder.getAsOfAttributes(), this, ControlListDefinitionMappingFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(ControlListDefinitionMappingFinder.getPrimaryKeyAttributes(), ControlListDefinitionMappingFinder.getAsOfAttributes(), this, ControlListDefinitionMappingFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ControlListDefinitionMappingFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ControlListDefinitionMappingFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ControlListDefinitionMapping.zConfigFullTx();
+		}
+		else
+		{
+			ControlListDefinitionMapping.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateControlListDefinitionMappingData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkControlListDefinitionMappingData(1, (ControlListDefinitionMappingData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateControlListDefinitionMappingPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getControlListDefinitionMappingTableName();
+	}
+
+	public String getControlListDefinitionMappingTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ControlListDefinitionMappingData data = (ControlListDefinitionMappingData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (ControlListDefinitionMappingFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ControlListDefinitionMappingData data = (ControlListDefinitionMappingData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getListId());
+		stm.setInt(pos++, data.getControlCode());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == ControlListDefinitionMappingFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (ControlListDefinitionMappingFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "LIST_ID = ? AND CONTROL_CD = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.LIST_ID,t0.CONTROL_CD,t0.DEFAULT_SEVERITY,t0.DEFAULT_RESTRICTION_LETTER,t0.UPDATE_BY,t0.IN_DT,t0.OUT_DT";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*7);
+		result.append(databaseAlias).append(".").append("LIST_ID");
+		result.append(",").append(databaseAlias).append(".").append("CONTROL_CD");
+		result.append(",").append(databaseAlias).append(".").append("DEFAULT_SEVERITY");
+		result.append(",").append(databaseAlias).append(".").append("DEFAULT_RESTRICTION_LETTER");
+		result.append(",").append(databaseAlias).append(".").append("UPDATE_BY");
+		result.append(",").append(databaseAlias).append(".").append("IN_DT");
+		result.append(",").append(databaseAlias).append(".").append("OUT_DT");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ControlListDefinitionMappingData inflateControlListDefinitionMappingData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ControlListDefinitionMappingData data = inflateControlListDefinitionMappingPkData(rs, dt);
+		inflateNonPkControlListDefinitionMappingData(3, data, rs, dt);
+		return data;
+	}
+
+	public ControlListDefinitionMappingData inflateControlListDefinitionMappingPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ControlListDefinitionMappingData _data = new ControlListDefinitionMappingData.ControlListDefinitionMappingDataOnHeap();
+		int _pos = 1;
+		_data.setListId(trimString(_rs.getString(_pos++)));
+		_data.setControlCode(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "controlCode");
+		return _data;
+	}
+
+	public void inflateNonPkControlListDefinitionMappingData(int _pos, ControlListDefinitionMappingData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ControlListDefinitionMappingData _data = _datax;
+			_data.setDefaultSeverity(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDefaultSeverityNull();
+			}
+
+			_data.setDefaultRestrictionLetter(trimString(_rs.getString(_pos++)));
+			_data.setUpdateBy(trimString(_rs.getString(_pos++)));
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				ControlListDefinitionMappingFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getControlListDefinitionMappingTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "CONTROL_LIST_DEF_MPG";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ControlListDefinitionMappingData data = (ControlListDefinitionMappingData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isListIdNull())
+		{
+			throwNullAttribute("listId");
+		}
+
+		stm.setString(pos++, data.getListId());
+		stm.setInt(pos++, data.getControlCode());
+		if (data.isDefaultSeverityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getDefaultSeverity());
+		}
+
+		if (data.isDefaultRestrictionLetterNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getDefaultRestrictionLetter());
+		}
+
+		if (data.isUpdateByNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getUpdateBy());
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == ControlListDefinitionMappingFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "LIST_ID,CONTROL_CD,DEFAULT_SEVERITY,DEFAULT_RESTRICTION_LETTER,UPDATE_BY,IN_DT,OUT_DT";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_DT = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		ControlListDefinitionMapping newObject = new ControlListDefinitionMapping(asOfDates[0]
+		);
+		newObject.zSetFromControlListDefinitionMappingData((ControlListDefinitionMappingData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new AuditOnlyTransactionalDataContainer(tx.getPerPortalTemporalContainer(ControlListDefinitionMappingFinder.getMithraObjectPortal(),
+			ControlListDefinitionMappingFinder.processingDate())
+		);
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_DT = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ControlListDefinitionMappingData data = (ControlListDefinitionMappingData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getListId());
+		stm.setInt(pos++, data.getControlCode());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		throw new RuntimeException("not implemented");
+	}
+}
@@ -0,0 +1,883 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ControlListDefinitionMappingFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ControlListDefinitionMapping";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ControlListDefinitionMapping";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ControlListDefinitionMapping");
+	private static final ControlListDefinitionMappingSingleFinder<ControlListDefinitionMapping, Object, ControlListDefinitionMapping> finder = new ControlListDefinitionMappingSingleFinder<ControlListDefinitionMapping, Object, ControlListDefinitionMapping>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ControlListDefinitionMappingFinder.ControlListDefinitionMappingRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("listId");
+		finderMethodMap.addNormalAttributeName("controlCode");
+		finderMethodMap.addNormalAttributeName("defaultSeverity");
+		finderMethodMap.addNormalAttributeName("defaultRestrictionLetter");
+		finderMethodMap.addNormalAttributeName("updateBy");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("controlDefinition");
+		finderMethodMap.addRelationshipName("listDefinition");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ControlListDefinitionMapping findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ControlListDefinitionMapping findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ControlListDefinitionMappingList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ControlListDefinitionMappingList) finder.findMany(operation);
+	}
+
+	public static ControlListDefinitionMappingList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ControlListDefinitionMappingList) finder.findManyBypassCache(operation);
+	}
+
+	private static ControlListDefinitionMapping findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ControlListDefinitionMapping) FinderUtils.findOne(found);
+	}
+
+	public static ControlListDefinitionMapping findByPrimaryKey(String listId, int controlCode, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(listId, controlCode, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ControlListDefinitionMappingData _castedTargetData = (ControlListDefinitionMappingData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getListId()) && _bean.getI1AsInteger() == _castedTargetData.getControlCode())
+			{
+				return ControlListDefinitionMappingFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static ControlListDefinitionMapping zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ControlListDefinitionMapping) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ControlListDefinitionMappingRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ControlListDefinitionMapping, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> listId;
+		private IntegerAttribute<ParentOwnerType> controlCode;
+		private IntegerAttribute<ParentOwnerType> defaultSeverity;
+		private StringAttribute<ParentOwnerType> defaultRestrictionLetter;
+		private StringAttribute<ParentOwnerType> updateBy;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ControlListDefinitionMappingControlDefinitionFinderSubclass<ParentOwnerType> controlDefinition;
+		private ControlListDefinitionMappingListDefinitionFinderSubclass<ParentOwnerType> listDefinition;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ControlListDefinitionMappingRelatedFinder()
+		{
+			super();
+		}
+
+		public ControlListDefinitionMappingRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlListDefinitionMappingFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ControlListDefinitionMappingFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ControlListDefinitionMappingFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ControlListDefinitionMappingFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.listId();
+			attributes[1] = this.controlCode();
+			attributes[2] = this.defaultSeverity();
+			attributes[3] = this.defaultRestrictionLetter();
+			attributes[4] = this.updateBy();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.controlDefinition());
+				relatedFinders.add(this.listDefinition());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ControlListDefinitionMapping findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ControlListDefinitionMappingFinder.findOne(operation, false);
+		}
+
+		public ControlListDefinitionMapping findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ControlListDefinitionMappingFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ControlListDefinitionMapping> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ControlListDefinitionMappingList((Operation) operation);
+		}
+
+		public MithraList<? extends ControlListDefinitionMapping> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ControlListDefinitionMappingList result = (ControlListDefinitionMappingList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ControlListDefinitionMapping> constructEmptyList()
+		{
+			return new ControlListDefinitionMappingList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 808684880;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> listId()
+		{
+			StringAttribute<ParentOwnerType> result = this.listId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LIST_ID","","listId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,12,-1,-1,10,true, false) :
+					new MappedStringAttribute(ControlListDefinitionMappingFinder.listId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("listDefinition");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ListDefinition", "controlDefinitionMappings");
+				this.listId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> controlCode()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.controlCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CONTROL_CD","","controlCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(ControlListDefinitionMappingFinder.controlCode(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("controlDefinition");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ControlDefinition", "listDefinitionMappings");
+				this.controlCode = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> defaultSeverity()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.defaultSeverity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("DEFAULT_SEVERITY","","defaultSeverity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,20,4,0,false, false) :
+					new MappedIntegerAttribute(ControlListDefinitionMappingFinder.defaultSeverity(), this.mapper, this.zGetValueSelector());
+				this.defaultSeverity = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> defaultRestrictionLetter()
+		{
+			StringAttribute<ParentOwnerType> result = this.defaultRestrictionLetter;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DEFAULT_RESTRICTION_LETTER","","defaultRestrictionLetter",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,16,-1,-1,10,true, false) :
+					new MappedStringAttribute(ControlListDefinitionMappingFinder.defaultRestrictionLetter(), this.mapper, this.zGetValueSelector());
+				this.defaultRestrictionLetter = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> updateBy()
+		{
+			StringAttribute<ParentOwnerType> result = this.updateBy;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("UPDATE_BY","","updateBy",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,40,-1,-1,30,true, false) :
+					new MappedStringAttribute(ControlListDefinitionMappingFinder.updateBy(), this.mapper, this.zGetValueSelector());
+				this.updateBy = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_DT","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,ControlListDefinitionMappingFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ControlListDefinitionMappingFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_DT","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,ControlListDefinitionMappingFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ControlListDefinitionMappingFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ControlListDefinitionMappingFinder.processingDateInfinity,false,false,ControlListDefinitionMappingFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ControlListDefinitionMappingFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ControlDefinitionFinder.ControlDefinitionSingleFinderForRelatedClasses<ParentOwnerType, ControlDefinition, ControlListDefinitionMapping> controlDefinition()
+		{
+			ControlListDefinitionMappingControlDefinitionFinderSubclass<ParentOwnerType> result = this.controlDefinition;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ControlDefinitionFinder.zGetControlDefinitionListDefinitionMappingsMapper());
+				newMapper.setToMany(false);
+				result = new ControlListDefinitionMappingControlDefinitionFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.controlDefinition = result;
+			}
+
+			return result;
+		}
+
+		public ListDefinitionFinder.ListDefinitionSingleFinderForRelatedClasses<ParentOwnerType, ListDefinition, ControlListDefinitionMapping> listDefinition()
+		{
+			ControlListDefinitionMappingListDefinitionFinderSubclass<ParentOwnerType> result = this.listDefinition;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ListDefinitionFinder.zGetListDefinitionControlDefinitionMappingsMapper());
+				newMapper.setToMany(false);
+				result = new ControlListDefinitionMappingListDefinitionFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.listDefinition = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ControlListDefinitionMappingFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ControlListDefinitionMappingFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ControlListDefinitionMappingCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ControlListDefinitionMappingRelatedFinder<ParentOwnerType, ReturnType, ControlListDefinitionMappingList, OwnerType>
+	{
+		public ControlListDefinitionMappingCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ControlListDefinitionMappingCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ControlListDefinitionMappingCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ControlListDefinitionMappingCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ControlListDefinitionMappingSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ControlListDefinitionMappingRelatedFinder<ParentOwnerType, ReturnType, ControlListDefinitionMappingList, OwnerType>
+	implements ToOneFinder
+	{
+		public ControlListDefinitionMappingSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ControlListDefinitionMappingSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ControlListDefinitionMapping other)
+		{
+			return this.listId().eq(other.getListId())
+			.and(this.controlCode().eq(other.getControlCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ControlListDefinitionMapping findByPrimaryKey(String listId, int controlCode, Timestamp processingDate)
+		{
+			ControlListDefinitionMapping _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (listId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(listId);
+				_bean.setI1AsInteger(controlCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ControlListDefinitionMapping) _related;
+			if (_related == null)
+			{
+				_op = this.listId().eq(listId).and(this.controlCode().eq(controlCode)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ControlListDefinitionMappingSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ControlListDefinitionMappingSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ControlListDefinitionMappingSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to CONTROL_LIST_DEF_MPG.LIST_ID **/
+	public static StringAttribute<ControlListDefinitionMapping> listId()
+	{
+		return finder.listId();
+	}
+
+	/** maps to CONTROL_LIST_DEF_MPG.CONTROL_CD **/
+	public static IntegerAttribute<ControlListDefinitionMapping> controlCode()
+	{
+		return finder.controlCode();
+	}
+
+	/** maps to CONTROL_LIST_DEF_MPG.DEFAULT_SEVERITY **/
+	public static IntegerAttribute<ControlListDefinitionMapping> defaultSeverity()
+	{
+		return finder.defaultSeverity();
+	}
+
+	/** maps to CONTROL_LIST_DEF_MPG.DEFAULT_RESTRICTION_LETTER **/
+	public static StringAttribute<ControlListDefinitionMapping> defaultRestrictionLetter()
+	{
+		return finder.defaultRestrictionLetter();
+	}
+
+	/** maps to CONTROL_LIST_DEF_MPG.UPDATE_BY **/
+	public static StringAttribute<ControlListDefinitionMapping> updateBy()
+	{
+		return finder.updateBy();
+	}
+
+	/** maps to CONTROL_LIST_DEF_MPG.IN_DT **/
+	public static TimestampAttribute<ControlListDefinitionMapping> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to CONTROL_LIST_DEF_MPG.OUT_DT **/
+	public static TimestampAttribute<ControlListDefinitionMapping> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ControlListDefinitionMapping> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ControlDefinitionFinder.ControlDefinitionSingleFinderForRelatedClasses<ControlListDefinitionMapping, ControlDefinition, ControlListDefinitionMapping> controlDefinition()
+	{
+		return finder.controlDefinition();
+	}
+
+	public static class ControlListDefinitionMappingControlDefinitionFinderSubclass<ParentOwnerType> extends ControlDefinitionFinder.ControlDefinitionSingleFinderForRelatedClasses<ParentOwnerType, ControlDefinition, ControlListDefinitionMapping>
+	{
+		public ControlListDefinitionMappingControlDefinitionFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "controlDefinition";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ControlDefinitionFinder.controlCode(),
+				ControlDefinitionFinder.processingDate()).withExtractors(
+				ControlListDefinitionMappingFinder.controlCode(),
+				ControlListDefinitionMappingFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ControlListDefinitionMappingControlDefinitionFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ControlDefinition plainValueOf(ControlListDefinitionMapping _obj)
+		{
+			return _obj.getControlDefinition();
+		}
+
+		protected ControlDefinitionList plainListValueOf(Object _obj)
+		{
+			return ((ControlListDefinitionMappingList)_obj).getControlDefinitions();
+		}
+	}
+
+	public static ListDefinitionFinder.ListDefinitionSingleFinderForRelatedClasses<ControlListDefinitionMapping, ListDefinition, ControlListDefinitionMapping> listDefinition()
+	{
+		return finder.listDefinition();
+	}
+
+	public static class ControlListDefinitionMappingListDefinitionFinderSubclass<ParentOwnerType> extends ListDefinitionFinder.ListDefinitionSingleFinderForRelatedClasses<ParentOwnerType, ListDefinition, ControlListDefinitionMapping>
+	{
+		public ControlListDefinitionMappingListDefinitionFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "listDefinition";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ListDefinitionFinder.listId(),
+				ListDefinitionFinder.processingDate()).withExtractors(
+				ControlListDefinitionMappingFinder.listId(),
+				ControlListDefinitionMappingFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ControlListDefinitionMappingListDefinitionFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ListDefinition plainValueOf(ControlListDefinitionMapping _obj)
+		{
+			return _obj.getListDefinition();
+		}
+
+		protected ListDefinitionList plainListValueOf(Object _obj)
+		{
+			return ((ControlListDefinitionMappingList)_obj).getListDefinitions();
+		}
+	}
+
+	public static Operation eq(ControlListDefinitionMapping other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(listId());
+	}
+
+	public static ControlListDefinitionMappingSingleFinder<ControlListDefinitionMapping, Object, ControlListDefinitionMapping> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			listId()
+			, controlCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			listId()
+			, listId()
+			, controlCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			controlCode()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			listId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ControlListDefinitionMapping");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,215 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ControlListDefinitionMappingListAbstract extends DelegatingList<ControlListDefinitionMapping> implements MithraDatedTransactionalList<ControlListDefinitionMapping>
+{
+	public ControlListDefinitionMappingListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ControlListDefinitionMappingListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ControlListDefinitionMappingListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ControlListDefinitionMappingListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ControlListDefinitionMapping[] elements()
+	{
+		ControlListDefinitionMapping[] result = new ControlListDefinitionMapping[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ControlListDefinitionMappingList intersection(ControlListDefinitionMappingList another)
+	{
+		return (ControlListDefinitionMappingList)super.intersection(another);
+	}
+
+	public ControlListDefinitionMapping getControlListDefinitionMappingAt(int index)
+	{
+		return (ControlListDefinitionMapping)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.controlCode = ControlDefinition.controlCode</pre>
+	* @see ControlDefinition#getListDefinitionMappings() reverse relationship ControlDefinition.getListDefinitionMappings()
+	* @return The control definition
+	*/
+	public ControlDefinitionList getControlDefinitions()
+	{
+		return (ControlDefinitionList) this.zGetDelegated().resolveRelationship(this, ControlListDefinitionMappingFinder.controlDefinition());
+	}
+
+	public void zSetParentContainercontrolDefinition(ControlDefinitionAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ControlListDefinitionMapping item = this.getControlListDefinitionMappingAt(i);
+			item.zSetParentContainercontrolDefinition(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ListDefinition.listId = this.listId</pre>
+	* @see ListDefinition#getControlDefinitionMappings() reverse relationship ListDefinition.getControlDefinitionMappings()
+	* @return The list definition
+	*/
+	public ListDefinitionList getListDefinitions()
+	{
+		return (ListDefinitionList) this.zGetDelegated().resolveRelationship(this, ControlListDefinitionMappingFinder.listDefinition());
+	}
+
+	public void zSetParentContainerlistDefinition(ListDefinitionAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ControlListDefinitionMapping item = this.getControlListDefinitionMappingAt(i);
+			item.zSetParentContainerlistDefinition(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ControlListDefinitionMappingFinder.getMithraObjectPortal();
+	}
+
+	public ControlListDefinitionMappingList getNonPersistentCopy()
+	{
+		ControlListDefinitionMappingList result = new ControlListDefinitionMappingList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ControlListDefinitionMappingList asAdhoc()
+	{
+		return (ControlListDefinitionMappingList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ControlListDefinitionMapping> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ControlListDefinitionMappingList merge(MithraTransactionalList<ControlListDefinitionMapping> incoming, TopLevelMergeOptions<ControlListDefinitionMapping> mergeOptions)
+	{
+		return (ControlListDefinitionMappingList) super.merge(incoming, mergeOptions);
+	}
+
+	public ControlListDefinitionMappingList getDetachedCopy()
+	{
+		ControlListDefinitionMappingList result = new ControlListDefinitionMappingList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setListId(String newValue)
+	{
+		zSetString(ControlListDefinitionMappingFinder.listId(), newValue);
+	}
+
+	public void setControlCode(int newValue)
+	{
+		zSetInteger(ControlListDefinitionMappingFinder.controlCode(), newValue);
+	}
+
+	public void setDefaultSeverity(int newValue)
+	{
+		zSetInteger(ControlListDefinitionMappingFinder.defaultSeverity(), newValue);
+	}
+
+	public void setDefaultRestrictionLetter(String newValue)
+	{
+		zSetString(ControlListDefinitionMappingFinder.defaultRestrictionLetter(), newValue);
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		zSetString(ControlListDefinitionMappingFinder.updateBy(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ControlListDefinitionMappingFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ControlListDefinitionMappingFinder.processingDateTo(), newValue);
+	}
+
+	public void setDefaultSeverityNull()
+	{
+		zSetAttributeNull(ControlListDefinitionMappingFinder.defaultSeverity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
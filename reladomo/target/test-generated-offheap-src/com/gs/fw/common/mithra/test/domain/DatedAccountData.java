@@ -0,0 +1,1322 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface DatedAccountData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 60;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isDeskIdNull();
+	String getDeskId();
+	void setDeskId(String value);
+	void setDeskIdNull();
+	int zGetDeskIdAsInt();
+	boolean isIdNull();
+	int getId();
+	void setId(int value);
+	void setIdNull();
+	boolean isNameNull();
+	String getName();
+	void setName(String value);
+	void setNameNull();
+	int zGetNameAsInt();
+	boolean isPnlGroupIdNull();
+	int getPnlGroupId();
+	void setPnlGroupId(int value);
+	void setPnlGroupIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isTrialIdNull();
+	int getTrialId();
+	void setTrialId(int value);
+	void setTrialIdNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getDatedTrial();
+	void setDatedTrial(Object related);
+	Object getDatedPnlGroup();
+	void setDatedPnlGroup(Object related);
+	Object getEuroExchangeRate();
+	void setEuroExchangeRate(Object related);
+	public class DatedAccountDataOnHeap implements DatedAccountData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private String deskId;
+		private int id;
+		private String name;
+		private int pnlGroupId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int trialId;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isDeskIdNull()
+		{
+			return this.getDeskId() == null;
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isNameNull()
+		{
+			return this.getName() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isTrialIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isPnlGroupIdNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, DatedAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.deskId);
+			out.writeInt(this.id);
+			out.writeObject(this.name);
+			out.writeInt(this.pnlGroupId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, DatedAccountFinder.processingDate().getInfinityDate());
+			out.writeInt(this.trialId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getDeskId()
+		{
+			return this.deskId;
+		}
+
+		public int zGetDeskIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+		}
+
+		public void setDeskId(String value)
+		{
+			this.deskId = StringPool.getInstance().getOrAddToCache(value, DatedAccountFinder.isFullCache());
+		}
+
+		public void setDeskIdNull()
+		{
+			this.setDeskId(null);
+		}
+
+		public int getId()
+		{
+			return this.id;
+		}
+
+		public void setId(int value)
+		{
+			this.id = value;
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getName()
+		{
+			return this.name;
+		}
+
+		public int zGetNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+		}
+
+		public void setName(String value)
+		{
+			this.name = StringPool.getInstance().getOrAddToCache(value, DatedAccountFinder.isFullCache());
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public int getPnlGroupId()
+		{
+			return this.pnlGroupId;
+		}
+
+		public void setPnlGroupId(int value)
+		{
+			this.pnlGroupId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getTrialId()
+		{
+			return this.trialId;
+		}
+
+		public void setTrialId(int value)
+		{
+			this.trialId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setTrialIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setPnlGroupIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(DatedAccountDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.deskId = this.deskId;
+			copy.id = this.id;
+			copy.name = this.name;
+			copy.pnlGroupId = this.pnlGroupId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.trialId = this.trialId;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[3];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DatedAccountFinder.businessDate().getInfinityDate()), DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+			this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DatedAccountFinder.isFullCache());
+			this.id = in.readInt();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DatedAccountFinder.isFullCache());
+			this.pnlGroupId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DatedAccountFinder.processingDate().getInfinityDate()), DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+			this.trialId = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final DatedAccountData otherData = (DatedAccountData) other;
+			if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+			{
+				return false;
+			}
+
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, DatedAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.deskId);
+			out.writeInt(this.id);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, DatedAccountFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DatedAccountFinder.businessDate().getInfinityDate()), DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+			this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DatedAccountFinder.isFullCache());
+			this.id = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DatedAccountFinder.processingDate().getInfinityDate()), DatedAccountFinder.isFullCache(), DatedAccountFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getDatedTrial()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setDatedTrial(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getDatedPnlGroup()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setDatedPnlGroup(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getEuroExchangeRate()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[2];
+			}
+
+			return null;
+		}
+
+		public void setEuroExchangeRate(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[2] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			DatedAccountDataOffHeap data = new DatedAccountDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setDeskId(this.getDeskId());
+			data.setId(this.getId());
+			data.setName(this.getName());
+			data.setPnlGroupId(this.getPnlGroupId());
+			if (this.isPnlGroupIdNull()) data.setPnlGroupIdNull();
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setTrialId(this.getTrialId());
+			if (this.isTrialIdNull()) data.setTrialIdNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final DatedAccountData datedAccountData = (DatedAccountData) newData;
+			this.setBusinessDateFrom(datedAccountData.getBusinessDateFrom());
+			this.setBusinessDateTo(datedAccountData.getBusinessDateTo());
+			this.setDeskId(datedAccountData.getDeskId());
+			this.setName(datedAccountData.getName());
+			this.setPnlGroupId(datedAccountData.getPnlGroupId());
+			if (datedAccountData.isPnlGroupIdNull()) this.setPnlGroupIdNull();
+			this.setProcessingDateFrom(datedAccountData.getProcessingDateFrom());
+			this.setProcessingDateTo(datedAccountData.getProcessingDateTo());
+			this.setTrialId(datedAccountData.getTrialId());
+			if (datedAccountData.isTrialIdNull()) this.setTrialIdNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final DatedAccountData other = (DatedAccountData) newData;
+			if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if ( isPnlGroupIdNull() != other.isPnlGroupIdNull() || getPnlGroupId() != other.getPnlGroupId())
+			{
+				return true;
+			}
+
+			if ( isTrialIdNull() != other.isTrialIdNull() || getTrialId() != other.getTrialId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			DatedAccountDataOnHeap copy = new DatedAccountDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			DatedAccountDataOnHeap copy = new DatedAccountDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			DatedAccountData otherData = (DatedAccountData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			DatedAccountData otherData = (DatedAccountData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.DatedAccountData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return DatedAccountFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return DatedAccountFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DatedAccountData";
+		}
+	}
+
+	public class DatedAccountDataOffHeap extends MithraOffHeapDataObject implements DatedAccountData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public DatedAccountDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 40);
+			this.zSetTimestamp(_storage, value, 48);
+		}
+
+		public DatedAccountDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isDeskIdNull()
+		{
+			return zIsStringNull(_storage, 8);
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isNameNull()
+		{
+			return zIsStringNull(_storage, 32);
+		}
+
+		public boolean isPnlGroupIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 48);
+		}
+
+		public boolean isTrialIdNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), DatedAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getDeskId());
+			out.writeInt(this.getId());
+			out.writeObject(this.getName());
+			out.writeInt(this.getPnlGroupId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), DatedAccountFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getTrialId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isTrialIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isPnlGroupIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getDeskId()
+		{
+			return zGetString(_storage, 8);
+		}
+
+		public int zGetDeskIdAsInt()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setDeskId(String value)
+		{
+			zSetString(_storage, value, 8);
+		}
+
+		public void setDeskIdNull()
+		{
+			this.setDeskId(null);
+		}
+
+		public int getId()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setId(int value)
+		{
+			zSetInteger(_storage, value, 12, -1, -1);
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getName()
+		{
+			return zGetString(_storage, 32);
+		}
+
+		public int zGetNameAsInt()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setName(String value)
+		{
+			zSetString(_storage, value, 32);
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public int getPnlGroupId()
+		{
+			return zGetInteger(_storage, 36);
+		}
+
+		public void setPnlGroupId(int value)
+		{
+			zSetInteger(_storage, value, 36, 4, 0);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 48);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 48);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 48);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getTrialId()
+		{
+			return zGetInteger(_storage, 56);
+		}
+
+		public void setTrialId(int value)
+		{
+			zSetInteger(_storage, value, 56, 4, 1);
+		}
+
+		public void setTrialIdNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public void setPnlGroupIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(DatedAccountDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.deskId = this.getDeskId();
+			copy.id = this.getId();
+			copy.name = this.getName();
+			copy.pnlGroupId = this.getPnlGroupId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.trialId = this.getTrialId();
+			if (isTrialIdNull())
+			{
+				copy.setTrialIdNull();
+			}
+
+			if (isPnlGroupIdNull())
+			{
+				copy.setPnlGroupIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 32);
+			zSetInteger(_storage, in.readInt(), 36, 4, 0, (isNullBits0 & 1 << 1) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetInteger(_storage, in.readInt(), 56, 4, 1, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof DatedAccountDataOffHeap)
+			{
+				final DatedAccountDataOffHeap otherData = (DatedAccountDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final DatedAccountData otherData = (DatedAccountData) other;
+			if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+			{
+				return false;
+			}
+
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), DatedAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getDeskId());
+			out.writeInt(this.getId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), DatedAccountFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getDatedTrial()
+		{
+			return null;
+		}
+
+		public void setDatedTrial(Object related)
+		{
+		}
+
+		public Object getDatedPnlGroup()
+		{
+			return null;
+		}
+
+		public void setDatedPnlGroup(Object related)
+		{
+		}
+
+		public Object getEuroExchangeRate()
+		{
+			return null;
+		}
+
+		public void setEuroExchangeRate(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final DatedAccountData datedAccountData = (DatedAccountData) newData;
+			this.setBusinessDateFrom(datedAccountData.getBusinessDateFrom());
+			this.setBusinessDateTo(datedAccountData.getBusinessDateTo());
+			this.setDeskId(datedAccountData.getDeskId());
+			this.setName(datedAccountData.getName());
+			this.setPnlGroupId(datedAccountData.getPnlGroupId());
+			if (datedAccountData.isPnlGroupIdNull()) this.setPnlGroupIdNull();
+			this.setProcessingDateFrom(datedAccountData.getProcessingDateFrom());
+			this.setProcessingDateTo(datedAccountData.getProcessingDateTo());
+			this.setTrialId(datedAccountData.getTrialId());
+			if (datedAccountData.isTrialIdNull()) this.setTrialIdNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final DatedAccountData other = (DatedAccountData) newData;
+			if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if ( isPnlGroupIdNull() != other.isPnlGroupIdNull() || getPnlGroupId() != other.getPnlGroupId())
+			{
+				return true;
+			}
+
+			if ( isTrialIdNull() != other.isTrialIdNull() || getTrialId() != other.getTrialId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			DatedAccountDataOnHeap copy = new DatedAccountDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			DatedAccountDataOnHeap copy = new DatedAccountDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			DatedAccountData otherData = (DatedAccountData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			DatedAccountData otherData = (DatedAccountData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.DatedAccountData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return DatedAccountFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return DatedAccountFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DatedAccountData";
+		}
+	}
+}
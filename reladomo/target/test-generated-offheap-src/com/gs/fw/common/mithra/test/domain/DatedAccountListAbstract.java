@@ -0,0 +1,139 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedAccountListAbstract extends DelegatingList<DatedAccount> implements MithraList<DatedAccount>
+{
+	public DatedAccountListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedAccountListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedAccountListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedAccountListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public DatedAccount[] elements()
+	{
+		DatedAccount[] result = new DatedAccount[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedAccountList intersection(DatedAccountList another)
+	{
+		return (DatedAccountList)super.intersection(another);
+	}
+
+	public DatedAccount getDatedAccountAt(int index)
+	{
+		return (DatedAccount)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedTrial.id = this.trialId</pre>
+	* @return The dated trial
+	*/
+	public DatedTrialList getDatedTrials()
+	{
+		return (DatedTrialList) this.zGetDelegated().resolveRelationship(this, DatedAccountFinder.datedTrial());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedPnlGroup.id = this.pnlGroupId</pre>
+	* @return The dated pnl group
+	*/
+	public DatedPnlGroupList getDatedPnlGroups()
+	{
+		return (DatedPnlGroupList) this.zGetDelegated().resolveRelationship(this, DatedAccountFinder.datedPnlGroup());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ExchangeRate.acmapCode = this.deskId and
+	ExchangeRate.currency="EUR" and ExchangeRate.date = this.businessDate</pre>
+	* @return The euro exchange rate
+	*/
+	public ExchangeRateList getEuroExchangeRates()
+	{
+		return (ExchangeRateList) this.zGetDelegated().resolveRelationship(this, DatedAccountFinder.euroExchangeRate());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedAccountFinder.getMithraObjectPortal();
+	}
+
+	public DatedAccountList getNonPersistentCopy()
+	{
+		DatedAccountList result = new DatedAccountList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedAccountList asAdhoc()
+	{
+		return (DatedAccountList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<DatedAccount> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
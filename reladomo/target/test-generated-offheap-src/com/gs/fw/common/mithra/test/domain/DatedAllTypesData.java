@@ -0,0 +1,1312 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DatedAllTypesData
+implements MithraDataObject
+{
+	private byte _dataVersion;
+	private byte isNullBits0 = 0;
+	private BigDecimal bigDecimalValue;
+	private boolean booleanValue;
+	private Timestamp businessDateFrom;
+	private Timestamp businessDateTo;
+	private byte[] byteArrayValue;
+	private byte byteValue;
+	private char charValue;
+	private Date dateValue;
+	private double doubleValue;
+	private float floatValue;
+	private int id;
+	private int intValue;
+	private long longValue;
+	private BigDecimal nullableBigDecimalValue;
+	private byte[] nullableByteArrayValue;
+	private byte nullableByteValue;
+	private char nullableCharValue;
+	private Date nullableDateValue;
+	private double nullableDoubleValue;
+	private float nullableFloatValue;
+	private int nullableIntValue;
+	private long nullableLongValue;
+	private short nullableShortValue;
+	private String nullableStringValue;
+	private Time nullableTimeValue;
+	private Timestamp nullableTimestampValue;
+	private Timestamp processingDateFrom;
+	private Timestamp processingDateTo;
+	private short shortValue;
+	private String stringValue;
+	private Time timeValue;
+	private Timestamp timestampValue;
+	public boolean isBigDecimalValueNull()
+	{
+		return this.getBigDecimalValue() == null;
+	}
+
+	public boolean isBooleanValueNull()
+	{
+		return false;
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.getBusinessDateFrom() == null;
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.getBusinessDateTo() == null;
+	}
+
+	public boolean isByteArrayValueNull()
+	{
+		return this.getByteArrayValue() == null;
+	}
+
+	public boolean isByteValueNull()
+	{
+		return false;
+	}
+
+	public boolean isCharValueNull()
+	{
+		return false;
+	}
+
+	public boolean isDateValueNull()
+	{
+		return this.getDateValue() == null;
+	}
+
+	public boolean isDoubleValueNull()
+	{
+		return false;
+	}
+
+	public boolean isFloatValueNull()
+	{
+		return false;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isIntValueNull()
+	{
+		return false;
+	}
+
+	public boolean isLongValueNull()
+	{
+		return false;
+	}
+
+	public boolean isNullableBigDecimalValueNull()
+	{
+		return this.getNullableBigDecimalValue() == null;
+	}
+
+	public boolean isNullableByteArrayValueNull()
+	{
+		return this.getNullableByteArrayValue() == null;
+	}
+
+	public boolean isNullableDateValueNull()
+	{
+		return this.getNullableDateValue() == null;
+	}
+
+	public boolean isNullableStringValueNull()
+	{
+		return this.getNullableStringValue() == null;
+	}
+
+	public boolean isNullableTimeValueNull()
+	{
+		return this.getNullableTimeValue() == null;
+	}
+
+	public boolean isNullableTimestampValueNull()
+	{
+		return this.getNullableTimestampValue() == null;
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.getProcessingDateFrom() == null;
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.getProcessingDateTo() == null;
+	}
+
+	public boolean isShortValueNull()
+	{
+		return false;
+	}
+
+	public boolean isStringValueNull()
+	{
+		return this.getStringValue() == null;
+	}
+
+	public boolean isTimeValueNull()
+	{
+		return this.getTimeValue() == null;
+	}
+
+	public boolean isTimestampValueNull()
+	{
+		return this.getTimestampValue() == null;
+	}
+
+	public boolean isNullableByteValueNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isNullableShortValueNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isNullableCharValueNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isNullableIntValueNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isNullableLongValueNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isNullableFloatValueNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isNullableDoubleValueNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.bigDecimalValue);
+		out.writeBoolean(this.booleanValue);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, DatedAllTypesFinder.businessDate().getInfinityDate());
+		if (byteArrayValue == null) out.writeInt(-1); else 
+		{
+			out.writeInt(byteArrayValue.length); out.write(byteArrayValue); 
+		}
+
+		;
+		out.writeByte(this.byteValue);
+		out.writeChar(this.charValue);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.dateValue);
+		out.writeDouble(this.doubleValue);
+		out.writeFloat(this.floatValue);
+		out.writeInt(this.id);
+		out.writeInt(this.intValue);
+		out.writeLong(this.longValue);
+		out.writeObject(this.nullableBigDecimalValue);
+		if (nullableByteArrayValue == null) out.writeInt(-1); else 
+		{
+			out.writeInt(nullableByteArrayValue.length); out.write(nullableByteArrayValue); 
+		}
+
+		;
+		out.writeByte(this.nullableByteValue);
+		out.writeChar(this.nullableCharValue);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.nullableDateValue);
+		out.writeDouble(this.nullableDoubleValue);
+		out.writeFloat(this.nullableFloatValue);
+		out.writeInt(this.nullableIntValue);
+		out.writeLong(this.nullableLongValue);
+		out.writeShort(this.nullableShortValue);
+		out.writeObject(this.nullableStringValue);
+		out.writeObject(this.nullableTimeValue);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.nullableTimestampValue);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, DatedAllTypesFinder.processingDate().getInfinityDate());
+		out.writeShort(this.shortValue);
+		out.writeObject(this.stringValue);
+		out.writeObject(this.timeValue);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.timestampValue);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public BigDecimal getBigDecimalValue()
+	{
+		return this.bigDecimalValue;
+	}
+
+	public void setBigDecimalValue(BigDecimal value)
+	{
+		this.bigDecimalValue = value;
+	}
+
+	public void setBigDecimalValueNull()
+	{
+		this.setBigDecimalValue(null);
+	}
+
+	public boolean isBooleanValue()
+	{
+		return this.booleanValue;
+	}
+
+	public void setBooleanValue(boolean value)
+	{
+		this.booleanValue = value;
+	}
+
+	public void setBooleanValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.businessDateFrom;
+	}
+
+	public long zGetBusinessDateFromAsLong()
+	{
+		if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDateFrom.getTime();
+	}
+
+	public void setBusinessDateFrom(Timestamp value)
+	{
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+	}
+
+	public void setBusinessDateFromNull()
+	{
+		this.setBusinessDateFrom(null);
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.businessDateTo;
+	}
+
+	public long zGetBusinessDateToAsLong()
+	{
+		if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDateTo.getTime();
+	}
+
+	public void setBusinessDateTo(Timestamp value)
+	{
+		if (!value.equals(this.businessDateTo))
+		{
+			zIncrementDataVersion();
+		}
+
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+	}
+
+	public void setBusinessDateToNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public byte[] getByteArrayValue()
+	{
+		return this.byteArrayValue;
+	}
+
+	public void setByteArrayValue(byte[] value)
+	{
+		this.byteArrayValue = value;
+	}
+
+	public void setByteArrayValueNull()
+	{
+		this.setByteArrayValue(null);
+	}
+
+	public byte getByteValue()
+	{
+		return this.byteValue;
+	}
+
+	public void setByteValue(byte value)
+	{
+		this.byteValue = value;
+	}
+
+	public void setByteValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public char getCharValue()
+	{
+		return this.charValue;
+	}
+
+	public void setCharValue(char value)
+	{
+		this.charValue = value;
+	}
+
+	public void setCharValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Date getDateValue()
+	{
+		return this.dateValue;
+	}
+
+	public void setDateValue(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.dateValue = (java.sql.Date) value;
+		}
+		else
+		{
+			this.dateValue = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setDateValueNull()
+	{
+		this.setDateValue(null);
+	}
+
+	public double getDoubleValue()
+	{
+		return this.doubleValue;
+	}
+
+	public void setDoubleValue(double value)
+	{
+		this.doubleValue = value;
+	}
+
+	public void setDoubleValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public float getFloatValue()
+	{
+		return this.floatValue;
+	}
+
+	public void setFloatValue(float value)
+	{
+		this.floatValue = value;
+	}
+
+	public void setFloatValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getIntValue()
+	{
+		return this.intValue;
+	}
+
+	public void setIntValue(int value)
+	{
+		this.intValue = value;
+	}
+
+	public void setIntValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public long getLongValue()
+	{
+		return this.longValue;
+	}
+
+	public void setLongValue(long value)
+	{
+		this.longValue = value;
+	}
+
+	public void setLongValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public BigDecimal getNullableBigDecimalValue()
+	{
+		return this.nullableBigDecimalValue;
+	}
+
+	public void setNullableBigDecimalValue(BigDecimal value)
+	{
+		this.nullableBigDecimalValue = value;
+	}
+
+	public void setNullableBigDecimalValueNull()
+	{
+		this.setNullableBigDecimalValue(null);
+	}
+
+	public byte[] getNullableByteArrayValue()
+	{
+		return this.nullableByteArrayValue;
+	}
+
+	public void setNullableByteArrayValue(byte[] value)
+	{
+		this.nullableByteArrayValue = value;
+	}
+
+	public void setNullableByteArrayValueNull()
+	{
+		this.setNullableByteArrayValue(null);
+	}
+
+	public byte getNullableByteValue()
+	{
+		return this.nullableByteValue;
+	}
+
+	public void setNullableByteValue(byte value)
+	{
+		this.nullableByteValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public char getNullableCharValue()
+	{
+		return this.nullableCharValue;
+	}
+
+	public void setNullableCharValue(char value)
+	{
+		this.nullableCharValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public Date getNullableDateValue()
+	{
+		return this.nullableDateValue;
+	}
+
+	public void setNullableDateValue(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.nullableDateValue = (java.sql.Date) value;
+		}
+		else
+		{
+			this.nullableDateValue = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setNullableDateValueNull()
+	{
+		this.setNullableDateValue(null);
+	}
+
+	public double getNullableDoubleValue()
+	{
+		return this.nullableDoubleValue;
+	}
+
+	public void setNullableDoubleValue(double value)
+	{
+		this.nullableDoubleValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public float getNullableFloatValue()
+	{
+		return this.nullableFloatValue;
+	}
+
+	public void setNullableFloatValue(float value)
+	{
+		this.nullableFloatValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public int getNullableIntValue()
+	{
+		return this.nullableIntValue;
+	}
+
+	public void setNullableIntValue(int value)
+	{
+		this.nullableIntValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public long getNullableLongValue()
+	{
+		return this.nullableLongValue;
+	}
+
+	public void setNullableLongValue(long value)
+	{
+		this.nullableLongValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public short getNullableShortValue()
+	{
+		return this.nullableShortValue;
+	}
+
+	public void setNullableShortValue(short value)
+	{
+		this.nullableShortValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public String getNullableStringValue()
+	{
+		return this.nullableStringValue;
+	}
+
+	public int zGetNullableStringValueAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(nullableStringValue);
+	}
+
+	public void setNullableStringValue(String value)
+	{
+		this.nullableStringValue = StringPool.getInstance().getOrAddToCache(value, DatedAllTypesFinder.isFullCache());
+	}
+
+	public void setNullableStringValueNull()
+	{
+		this.setNullableStringValue(null);
+	}
+
+	public Time getNullableTimeValue()
+	{
+		return this.nullableTimeValue;
+	}
+
+	public long zGetOffHeapNullableTimeValueAsLong()
+	{
+		if (nullableTimeValue == null) return TimestampPool.OFF_HEAP_NULL;
+		return nullableTimeValue.getOffHeapTime();
+	}
+
+	public void setNullableTimeValue(Time value)
+	{
+		this.nullableTimeValue = value;
+	}
+
+	public void setNullableTimeValueNull()
+	{
+		this.setNullableTimeValue(null);
+	}
+
+	public Timestamp getNullableTimestampValue()
+	{
+		return this.nullableTimestampValue;
+	}
+
+	public long zGetNullableTimestampValueAsLong()
+	{
+		if (nullableTimestampValue == null) return TimestampPool.OFF_HEAP_NULL;
+		return nullableTimestampValue.getTime();
+	}
+
+	public void setNullableTimestampValue(Timestamp value)
+	{
+		this.nullableTimestampValue = TimestampPool.getInstance().getOrAddToCache(value, DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+	}
+
+	public void setNullableTimestampValueNull()
+	{
+		this.setNullableTimestampValue(null);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.processingDateFrom;
+	}
+
+	public long zGetProcessingDateFromAsLong()
+	{
+		if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+		return processingDateFrom.getTime();
+	}
+
+	public void setProcessingDateFrom(Timestamp value)
+	{
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+	}
+
+	public void setProcessingDateFromNull()
+	{
+		this.setProcessingDateFrom(null);
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.processingDateTo;
+	}
+
+	public long zGetProcessingDateToAsLong()
+	{
+		if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+		return processingDateTo.getTime();
+	}
+
+	public void setProcessingDateTo(Timestamp value)
+	{
+		if (!value.equals(this.processingDateTo))
+		{
+			zIncrementDataVersion();
+		}
+
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+	}
+
+	public void setProcessingDateToNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public short getShortValue()
+	{
+		return this.shortValue;
+	}
+
+	public void setShortValue(short value)
+	{
+		this.shortValue = value;
+	}
+
+	public void setShortValueNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getStringValue()
+	{
+		return this.stringValue;
+	}
+
+	public int zGetStringValueAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(stringValue);
+	}
+
+	public void setStringValue(String value)
+	{
+		this.stringValue = StringPool.getInstance().getOrAddToCache(value, DatedAllTypesFinder.isFullCache());
+	}
+
+	public void setStringValueNull()
+	{
+		this.setStringValue(null);
+	}
+
+	public Time getTimeValue()
+	{
+		return this.timeValue;
+	}
+
+	public long zGetOffHeapTimeValueAsLong()
+	{
+		if (timeValue == null) return TimestampPool.OFF_HEAP_NULL;
+		return timeValue.getOffHeapTime();
+	}
+
+	public void setTimeValue(Time value)
+	{
+		this.timeValue = value;
+	}
+
+	public void setTimeValueNull()
+	{
+		this.setTimeValue(null);
+	}
+
+	public Timestamp getTimestampValue()
+	{
+		return this.timestampValue;
+	}
+
+	public long zGetTimestampValueAsLong()
+	{
+		if (timestampValue == null) return TimestampPool.OFF_HEAP_NULL;
+		return timestampValue.getTime();
+	}
+
+	public void setTimestampValue(Timestamp value)
+	{
+		this.timestampValue = TimestampPool.getInstance().getOrAddToCache(value, DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+	}
+
+	public void setTimestampValueNull()
+	{
+		this.setTimestampValue(null);
+	}
+
+	public void setNullableByteValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setNullableShortValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setNullableCharValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setNullableIntValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setNullableLongValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setNullableFloatValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setNullableDoubleValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return _dataVersion; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+		this._dataVersion = version; 
+	}
+
+	public void zIncrementDataVersion()
+	{
+		_dataVersion++;
+		if (_dataVersion > 120) _dataVersion = (byte) 0;
+	}
+
+	protected void copyInto(DatedAllTypesData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.bigDecimalValue = this.bigDecimalValue;
+		copy.booleanValue = this.booleanValue;
+		copy.businessDateFrom = this.businessDateFrom;
+		copy.businessDateTo = this.businessDateTo;
+		copy.byteArrayValue = this.byteArrayValue;
+		copy.byteValue = this.byteValue;
+		copy.charValue = this.charValue;
+		copy.dateValue = this.dateValue;
+		copy.doubleValue = this.doubleValue;
+		copy.floatValue = this.floatValue;
+		copy.id = this.id;
+		copy.intValue = this.intValue;
+		copy.longValue = this.longValue;
+		copy.nullableBigDecimalValue = this.nullableBigDecimalValue;
+		copy.nullableByteArrayValue = this.nullableByteArrayValue;
+		copy.nullableByteValue = this.nullableByteValue;
+		copy.nullableCharValue = this.nullableCharValue;
+		copy.nullableDateValue = this.nullableDateValue;
+		copy.nullableDoubleValue = this.nullableDoubleValue;
+		copy.nullableFloatValue = this.nullableFloatValue;
+		copy.nullableIntValue = this.nullableIntValue;
+		copy.nullableLongValue = this.nullableLongValue;
+		copy.nullableShortValue = this.nullableShortValue;
+		copy.nullableStringValue = this.nullableStringValue;
+		copy.nullableTimeValue = this.nullableTimeValue;
+		copy.nullableTimestampValue = this.nullableTimestampValue;
+		copy.processingDateFrom = this.processingDateFrom;
+		copy.processingDateTo = this.processingDateTo;
+		copy.shortValue = this.shortValue;
+		copy.stringValue = this.stringValue;
+		copy.timeValue = this.timeValue;
+		copy.timestampValue = this.timestampValue;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.bigDecimalValue = (BigDecimal)in.readObject();
+		this.booleanValue = in.readBoolean();
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DatedAllTypesFinder.businessDate().getInfinityDate()), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+		int _byteArrayValueLength = in.readInt(); if (_byteArrayValueLength == -1) byteArrayValue = null; else 
+		{
+			byteArrayValue = new byte[_byteArrayValueLength];in.readFully(byteArrayValue);
+		}
+
+		;
+		this.byteValue = in.readByte();
+		this.charValue = in.readChar();
+		this.dateValue = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.doubleValue = in.readDouble();
+		this.floatValue = in.readFloat();
+		this.id = in.readInt();
+		this.intValue = in.readInt();
+		this.longValue = in.readLong();
+		this.nullableBigDecimalValue = (BigDecimal)in.readObject();
+		int _nullableByteArrayValueLength = in.readInt(); if (_nullableByteArrayValueLength == -1) nullableByteArrayValue = null; else 
+		{
+			nullableByteArrayValue = new byte[_nullableByteArrayValueLength];in.readFully(nullableByteArrayValue);
+		}
+
+		;
+		this.nullableByteValue = in.readByte();
+		this.nullableCharValue = in.readChar();
+		this.nullableDateValue = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.nullableDoubleValue = in.readDouble();
+		this.nullableFloatValue = in.readFloat();
+		this.nullableIntValue = in.readInt();
+		this.nullableLongValue = in.readLong();
+		this.nullableShortValue = in.readShort();
+		this.nullableStringValue = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DatedAllTypesFinder.isFullCache());
+		this.nullableTimeValue = (Time)in.readObject();
+		this.nullableTimestampValue = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DatedAllTypesFinder.processingDate().getInfinityDate()), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+		this.shortValue = in.readShort();
+		this.stringValue = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DatedAllTypesFinder.isFullCache());
+		this.timeValue = (Time)in.readObject();
+		this.timestampValue = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final DatedAllTypesData otherData = (DatedAllTypesData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, DatedAllTypesFinder.businessDate().getInfinityDate());
+		out.writeInt(this.id);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, DatedAllTypesFinder.processingDate().getInfinityDate());
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DatedAllTypesFinder.businessDate().getInfinityDate()), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+		this.id = in.readInt();
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DatedAllTypesFinder.processingDate().getInfinityDate()), DatedAllTypesFinder.isFullCache(), DatedAllTypesFinder.isOffHeap());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final DatedAllTypesData datedAllTypesData = (DatedAllTypesData) newData;
+		this.setBigDecimalValue(datedAllTypesData.getBigDecimalValue());
+		this.setBooleanValue(datedAllTypesData.isBooleanValue());
+		this.setBusinessDateFrom(datedAllTypesData.getBusinessDateFrom());
+		this.setBusinessDateTo(datedAllTypesData.getBusinessDateTo());
+		this.setByteArrayValue(datedAllTypesData.getByteArrayValue());
+		this.setByteValue(datedAllTypesData.getByteValue());
+		this.setCharValue(datedAllTypesData.getCharValue());
+		this.setDateValue(datedAllTypesData.getDateValue());
+		this.setDoubleValue(datedAllTypesData.getDoubleValue());
+		this.setFloatValue(datedAllTypesData.getFloatValue());
+		this.setIntValue(datedAllTypesData.getIntValue());
+		this.setLongValue(datedAllTypesData.getLongValue());
+		this.setNullableBigDecimalValue(datedAllTypesData.getNullableBigDecimalValue());
+		this.setNullableByteArrayValue(datedAllTypesData.getNullableByteArrayValue());
+		this.setNullableByteValue(datedAllTypesData.getNullableByteValue());
+		if (datedAllTypesData.isNullableByteValueNull()) this.setNullableByteValueNull();
+		this.setNullableCharValue(datedAllTypesData.getNullableCharValue());
+		if (datedAllTypesData.isNullableCharValueNull()) this.setNullableCharValueNull();
+		this.setNullableDateValue(datedAllTypesData.getNullableDateValue());
+		this.setNullableDoubleValue(datedAllTypesData.getNullableDoubleValue());
+		if (datedAllTypesData.isNullableDoubleValueNull()) this.setNullableDoubleValueNull();
+		this.setNullableFloatValue(datedAllTypesData.getNullableFloatValue());
+		if (datedAllTypesData.isNullableFloatValueNull()) this.setNullableFloatValueNull();
+		this.setNullableIntValue(datedAllTypesData.getNullableIntValue());
+		if (datedAllTypesData.isNullableIntValueNull()) this.setNullableIntValueNull();
+		this.setNullableLongValue(datedAllTypesData.getNullableLongValue());
+		if (datedAllTypesData.isNullableLongValueNull()) this.setNullableLongValueNull();
+		this.setNullableShortValue(datedAllTypesData.getNullableShortValue());
+		if (datedAllTypesData.isNullableShortValueNull()) this.setNullableShortValueNull();
+		this.setNullableStringValue(datedAllTypesData.getNullableStringValue());
+		this.setNullableTimeValue(datedAllTypesData.getNullableTimeValue());
+		this.setNullableTimestampValue(datedAllTypesData.getNullableTimestampValue());
+		this.setProcessingDateFrom(datedAllTypesData.getProcessingDateFrom());
+		this.setProcessingDateTo(datedAllTypesData.getProcessingDateTo());
+		this.setShortValue(datedAllTypesData.getShortValue());
+		this.setStringValue(datedAllTypesData.getStringValue());
+		this.setTimeValue(datedAllTypesData.getTimeValue());
+		this.setTimestampValue(datedAllTypesData.getTimestampValue());
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final DatedAllTypesData other = (DatedAllTypesData) newData;
+		if (!isBigDecimalValueNull() ? !getBigDecimalValue().equals(other.getBigDecimalValue()) : !other.isBigDecimalValueNull())
+		{
+			return true;
+		}
+
+		if ( isBooleanValue() != other.isBooleanValue())
+		{
+			return true;
+		}
+
+		if (!isByteArrayValueNull() ? !Arrays.equals(getByteArrayValue(),other.getByteArrayValue()) : !other.isByteArrayValueNull())
+		{
+			return true;
+		}
+
+		if ( getByteValue() != other.getByteValue())
+		{
+			return true;
+		}
+
+		if ( getCharValue() != other.getCharValue())
+		{
+			return true;
+		}
+
+		if (!isDateValueNull() ? !getDateValue().equals(other.getDateValue()) : !other.isDateValueNull())
+		{
+			return true;
+		}
+
+		if ( Math.abs(getDoubleValue() - other.getDoubleValue()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( Math.abs(getFloatValue() - other.getFloatValue()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( getIntValue() != other.getIntValue())
+		{
+			return true;
+		}
+
+		if ( getLongValue() != other.getLongValue())
+		{
+			return true;
+		}
+
+		if (!isNullableBigDecimalValueNull() ? !getNullableBigDecimalValue().equals(other.getNullableBigDecimalValue()) : !other.isNullableBigDecimalValueNull())
+		{
+			return true;
+		}
+
+		if (!isNullableByteArrayValueNull() ? !Arrays.equals(getNullableByteArrayValue(),other.getNullableByteArrayValue()) : !other.isNullableByteArrayValueNull())
+		{
+			return true;
+		}
+
+		if ( isNullableByteValueNull() != other.isNullableByteValueNull() || getNullableByteValue() != other.getNullableByteValue())
+		{
+			return true;
+		}
+
+		if ( isNullableCharValueNull() != other.isNullableCharValueNull() || getNullableCharValue() != other.getNullableCharValue())
+		{
+			return true;
+		}
+
+		if (!isNullableDateValueNull() ? !getNullableDateValue().equals(other.getNullableDateValue()) : !other.isNullableDateValueNull())
+		{
+			return true;
+		}
+
+		if ( isNullableDoubleValueNull() != other.isNullableDoubleValueNull() || Math.abs(getNullableDoubleValue() - other.getNullableDoubleValue()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNullableFloatValueNull() != other.isNullableFloatValueNull() || Math.abs(getNullableFloatValue() - other.getNullableFloatValue()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNullableIntValueNull() != other.isNullableIntValueNull() || getNullableIntValue() != other.getNullableIntValue())
+		{
+			return true;
+		}
+
+		if ( isNullableLongValueNull() != other.isNullableLongValueNull() || getNullableLongValue() != other.getNullableLongValue())
+		{
+			return true;
+		}
+
+		if ( isNullableShortValueNull() != other.isNullableShortValueNull() || getNullableShortValue() != other.getNullableShortValue())
+		{
+			return true;
+		}
+
+		if (!isNullableStringValueNull() ? !getNullableStringValue().equals(other.getNullableStringValue()) : !other.isNullableStringValueNull())
+		{
+			return true;
+		}
+
+		if (!isNullableTimeValueNull() ? !getNullableTimeValue().equals(other.getNullableTimeValue()) : !other.isNullableTimeValueNull())
+		{
+			return true;
+		}
+
+		if (!isNullableTimestampValueNull() ? !getNullableTimestampValue().equals(other.getNullableTimestampValue()) : !other.isNullableTimestampValueNull())
+		{
+			return true;
+		}
+
+		if ( getShortValue() != other.getShortValue())
+		{
+			return true;
+		}
+
+		if (!isStringValueNull() ? !getStringValue().equals(other.getStringValue()) : !other.isStringValueNull())
+		{
+			return true;
+		}
+
+		if (!isTimeValueNull() ? !getTimeValue().equals(other.getTimeValue()) : !other.isTimeValueNull())
+		{
+			return true;
+		}
+
+		if (!isTimestampValueNull() ? !getTimestampValue().equals(other.getTimestampValue()) : !other.isTimestampValueNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		DatedAllTypesData copy = new DatedAllTypesData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		DatedAllTypesData copy = new DatedAllTypesData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+		result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+		result += "id: "+(""+getId())+ " / ";
+		result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+		result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		boolean result = true;
+		DatedAllTypesData otherData = (DatedAllTypesData) other;
+		result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+		result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+		return result;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		DatedAllTypesData otherData = (DatedAllTypesData) other;
+		if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+		{
+			return true;
+		}
+
+		if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+		{
+			return true;
+		}
+
+		if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+		{
+			return true;
+		}
+
+		if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.DatedAllTypesData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return DatedAllTypesFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return DatedAllTypesFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.DatedAllTypesData";
+	}
+}
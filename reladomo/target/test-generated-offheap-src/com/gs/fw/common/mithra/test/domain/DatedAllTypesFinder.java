@@ -0,0 +1,1330 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DatedAllTypesFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/DatedAllTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.DatedAllTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DatedAllTypes");
+	private static final DatedAllTypesSingleFinder<DatedAllTypes, Object, DatedAllTypes> finder = new DatedAllTypesSingleFinder<DatedAllTypes, Object, DatedAllTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(DatedAllTypesFinder.DatedAllTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("booleanValue");
+		finderMethodMap.addNormalAttributeName("byteValue");
+		finderMethodMap.addNormalAttributeName("shortValue");
+		finderMethodMap.addNormalAttributeName("charValue");
+		finderMethodMap.addNormalAttributeName("intValue");
+		finderMethodMap.addNormalAttributeName("longValue");
+		finderMethodMap.addNormalAttributeName("floatValue");
+		finderMethodMap.addNormalAttributeName("doubleValue");
+		finderMethodMap.addNormalAttributeName("dateValue");
+		finderMethodMap.addNormalAttributeName("timeValue");
+		finderMethodMap.addNormalAttributeName("timestampValue");
+		finderMethodMap.addNormalAttributeName("stringValue");
+		finderMethodMap.addNormalAttributeName("byteArrayValue");
+		finderMethodMap.addNormalAttributeName("bigDecimalValue");
+		finderMethodMap.addNormalAttributeName("nullableByteValue");
+		finderMethodMap.addNormalAttributeName("nullableShortValue");
+		finderMethodMap.addNormalAttributeName("nullableCharValue");
+		finderMethodMap.addNormalAttributeName("nullableIntValue");
+		finderMethodMap.addNormalAttributeName("nullableLongValue");
+		finderMethodMap.addNormalAttributeName("nullableFloatValue");
+		finderMethodMap.addNormalAttributeName("nullableDoubleValue");
+		finderMethodMap.addNormalAttributeName("nullableDateValue");
+		finderMethodMap.addNormalAttributeName("nullableTimeValue");
+		finderMethodMap.addNormalAttributeName("nullableTimestampValue");
+		finderMethodMap.addNormalAttributeName("nullableStringValue");
+		finderMethodMap.addNormalAttributeName("nullableByteArrayValue");
+		finderMethodMap.addNormalAttributeName("nullableBigDecimalValue");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static DatedAllTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static DatedAllTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static DatedAllTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedAllTypesList) finder.findMany(operation);
+	}
+
+	public static DatedAllTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedAllTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static DatedAllTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (DatedAllTypes) FinderUtils.findOne(found);
+	}
+
+	public static DatedAllTypes findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DatedAllTypesData _castedTargetData = (DatedAllTypesData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return DatedAllTypesFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && DatedAllTypesFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static DatedAllTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (DatedAllTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class DatedAllTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<DatedAllTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private BooleanAttribute<ParentOwnerType> booleanValue;
+		private ByteAttribute<ParentOwnerType> byteValue;
+		private ShortAttribute<ParentOwnerType> shortValue;
+		private CharAttribute<ParentOwnerType> charValue;
+		private IntegerAttribute<ParentOwnerType> intValue;
+		private LongAttribute<ParentOwnerType> longValue;
+		private FloatAttribute<ParentOwnerType> floatValue;
+		private DoubleAttribute<ParentOwnerType> doubleValue;
+		private DateAttribute<ParentOwnerType> dateValue;
+		private TimeAttribute<ParentOwnerType> timeValue;
+		private TimestampAttribute<ParentOwnerType> timestampValue;
+		private StringAttribute<ParentOwnerType> stringValue;
+		private ByteArrayAttribute<ParentOwnerType> byteArrayValue;
+		private BigDecimalAttribute<ParentOwnerType> bigDecimalValue;
+		private ByteAttribute<ParentOwnerType> nullableByteValue;
+		private ShortAttribute<ParentOwnerType> nullableShortValue;
+		private CharAttribute<ParentOwnerType> nullableCharValue;
+		private IntegerAttribute<ParentOwnerType> nullableIntValue;
+		private LongAttribute<ParentOwnerType> nullableLongValue;
+		private FloatAttribute<ParentOwnerType> nullableFloatValue;
+		private DoubleAttribute<ParentOwnerType> nullableDoubleValue;
+		private DateAttribute<ParentOwnerType> nullableDateValue;
+		private TimeAttribute<ParentOwnerType> nullableTimeValue;
+		private TimestampAttribute<ParentOwnerType> nullableTimestampValue;
+		private StringAttribute<ParentOwnerType> nullableStringValue;
+		private ByteArrayAttribute<ParentOwnerType> nullableByteArrayValue;
+		private BigDecimalAttribute<ParentOwnerType> nullableBigDecimalValue;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public DatedAllTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public DatedAllTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DatedAllTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return DatedAllTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return DatedAllTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return DatedAllTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[32];
+			attributes[0] = this.id();
+			attributes[1] = this.booleanValue();
+			attributes[2] = this.byteValue();
+			attributes[3] = this.shortValue();
+			attributes[4] = this.charValue();
+			attributes[5] = this.intValue();
+			attributes[6] = this.longValue();
+			attributes[7] = this.floatValue();
+			attributes[8] = this.doubleValue();
+			attributes[9] = this.dateValue();
+			attributes[10] = this.timeValue();
+			attributes[11] = this.timestampValue();
+			attributes[12] = this.stringValue();
+			attributes[13] = this.byteArrayValue();
+			attributes[14] = this.bigDecimalValue();
+			attributes[15] = this.nullableByteValue();
+			attributes[16] = this.nullableShortValue();
+			attributes[17] = this.nullableCharValue();
+			attributes[18] = this.nullableIntValue();
+			attributes[19] = this.nullableLongValue();
+			attributes[20] = this.nullableFloatValue();
+			attributes[21] = this.nullableDoubleValue();
+			attributes[22] = this.nullableDateValue();
+			attributes[23] = this.nullableTimeValue();
+			attributes[24] = this.nullableTimestampValue();
+			attributes[25] = this.nullableStringValue();
+			attributes[26] = this.nullableByteArrayValue();
+			attributes[27] = this.nullableBigDecimalValue();
+			attributes[28] = this.businessDateFrom();
+			attributes[29] = this.businessDateTo();
+			attributes[30] = this.processingDateFrom();
+			attributes[31] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public DatedAllTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return DatedAllTypesFinder.findOne(operation, false);
+		}
+
+		public DatedAllTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return DatedAllTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends DatedAllTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new DatedAllTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends DatedAllTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			DatedAllTypesList result = (DatedAllTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends DatedAllTypes> constructEmptyList()
+		{
+			return new DatedAllTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 647519584;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DatedAllTypesFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOL_COL","","booleanValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(DatedAllTypesFinder.booleanValue(), this.mapper, this.zGetValueSelector());
+				this.booleanValue = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteValue()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_COL","","byteValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(DatedAllTypesFinder.byteValue(), this.mapper, this.zGetValueSelector());
+				this.byteValue = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortValue()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_COL","","shortValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(DatedAllTypesFinder.shortValue(), this.mapper, this.zGetValueSelector());
+				this.shortValue = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charValue()
+		{
+			CharAttribute<ParentOwnerType> result = this.charValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_COL","","charValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(DatedAllTypesFinder.charValue(), this.mapper, this.zGetValueSelector());
+				this.charValue = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intValue()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_COL","","intValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DatedAllTypesFinder.intValue(), this.mapper, this.zGetValueSelector());
+				this.intValue = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longValue()
+		{
+			LongAttribute<ParentOwnerType> result = this.longValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_COL","","longValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(DatedAllTypesFinder.longValue(), this.mapper, this.zGetValueSelector());
+				this.longValue = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatValue()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_COL","","floatValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(DatedAllTypesFinder.floatValue(), this.mapper, this.zGetValueSelector());
+				this.floatValue = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_COL","","doubleValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(DatedAllTypesFinder.doubleValue(), this.mapper, this.zGetValueSelector());
+				this.doubleValue = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> dateValue()
+		{
+			DateAttribute<ParentOwnerType> result = this.dateValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATE_COL","","dateValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(DatedAllTypesFinder.dateValue(), this.mapper, this.zGetValueSelector());
+				this.dateValue = result;
+			}
+
+			return result;
+		}
+
+		public TimeAttribute<ParentOwnerType> timeValue()
+		{
+			TimeAttribute<ParentOwnerType> result = this.timeValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimeAttribute.generate("TIME_COL","","timeValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedTimeAttribute(DatedAllTypesFinder.timeValue(), this.mapper, this.zGetValueSelector());
+				this.timeValue = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> timestampValue()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.timestampValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TIMESTAMP_COL","","timestampValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAllTypesFinder.timestampValue(), this.mapper, this.zGetValueSelector());
+				this.timestampValue = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> stringValue()
+		{
+			StringAttribute<ParentOwnerType> result = this.stringValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STRING_COL","","stringValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(DatedAllTypesFinder.stringValue(), this.mapper, this.zGetValueSelector());
+				this.stringValue = result;
+			}
+
+			return result;
+		}
+
+		public ByteArrayAttribute<ParentOwnerType> byteArrayValue()
+		{
+			ByteArrayAttribute<ParentOwnerType> result = this.byteArrayValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteArrayAttribute.generate("BYTE_ARRAY_COL","","byteArrayValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,50, false) :
+					new MappedByteArrayAttribute(DatedAllTypesFinder.byteArrayValue(), this.mapper, this.zGetValueSelector());
+				this.byteArrayValue = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> bigDecimalValue()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.bigDecimalValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("BIG_DECIMAL_COL","","bigDecimalValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,10,5, false) :
+					new MappedBigDecimalAttribute(DatedAllTypesFinder.bigDecimalValue(), this.mapper, this.zGetValueSelector());
+				this.bigDecimalValue = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> nullableByteValue()
+		{
+			ByteAttribute<ParentOwnerType> result = this.nullableByteValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("NULL_BYTE_COL","","nullableByteValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(DatedAllTypesFinder.nullableByteValue(), this.mapper, this.zGetValueSelector());
+				this.nullableByteValue = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> nullableShortValue()
+		{
+			ShortAttribute<ParentOwnerType> result = this.nullableShortValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("NULL_SHORT_COL","","nullableShortValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(DatedAllTypesFinder.nullableShortValue(), this.mapper, this.zGetValueSelector());
+				this.nullableShortValue = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> nullableCharValue()
+		{
+			CharAttribute<ParentOwnerType> result = this.nullableCharValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("NULL_CHAR_COL","","nullableCharValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(DatedAllTypesFinder.nullableCharValue(), this.mapper, this.zGetValueSelector());
+				this.nullableCharValue = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableIntValue()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableIntValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_INT_COL","","nullableIntValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DatedAllTypesFinder.nullableIntValue(), this.mapper, this.zGetValueSelector());
+				this.nullableIntValue = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> nullableLongValue()
+		{
+			LongAttribute<ParentOwnerType> result = this.nullableLongValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("NULL_LONG_COL","","nullableLongValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(DatedAllTypesFinder.nullableLongValue(), this.mapper, this.zGetValueSelector());
+				this.nullableLongValue = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> nullableFloatValue()
+		{
+			FloatAttribute<ParentOwnerType> result = this.nullableFloatValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("NULL_FLOAT_COL","","nullableFloatValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(DatedAllTypesFinder.nullableFloatValue(), this.mapper, this.zGetValueSelector());
+				this.nullableFloatValue = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> nullableDoubleValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.nullableDoubleValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NULL_DOUBLE_COL","","nullableDoubleValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(DatedAllTypesFinder.nullableDoubleValue(), this.mapper, this.zGetValueSelector());
+				this.nullableDoubleValue = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> nullableDateValue()
+		{
+			DateAttribute<ParentOwnerType> result = this.nullableDateValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("NULL_DATE_COL","","nullableDateValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(DatedAllTypesFinder.nullableDateValue(), this.mapper, this.zGetValueSelector());
+				this.nullableDateValue = result;
+			}
+
+			return result;
+		}
+
+		public TimeAttribute<ParentOwnerType> nullableTimeValue()
+		{
+			TimeAttribute<ParentOwnerType> result = this.nullableTimeValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimeAttribute.generate("NULL_TIME_COL","","nullableTimeValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedTimeAttribute(DatedAllTypesFinder.nullableTimeValue(), this.mapper, this.zGetValueSelector());
+				this.nullableTimeValue = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> nullableTimestampValue()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.nullableTimestampValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("NULL_TIMESTAMP_COL","","nullableTimestampValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAllTypesFinder.nullableTimestampValue(), this.mapper, this.zGetValueSelector());
+				this.nullableTimestampValue = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> nullableStringValue()
+		{
+			StringAttribute<ParentOwnerType> result = this.nullableStringValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NULL_STRING_COL","","nullableStringValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(DatedAllTypesFinder.nullableStringValue(), this.mapper, this.zGetValueSelector());
+				this.nullableStringValue = result;
+			}
+
+			return result;
+		}
+
+		public ByteArrayAttribute<ParentOwnerType> nullableByteArrayValue()
+		{
+			ByteArrayAttribute<ParentOwnerType> result = this.nullableByteArrayValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteArrayAttribute.generate("NULL_BYTE_ARRAY_COL","","nullableByteArrayValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,50, false) :
+					new MappedByteArrayAttribute(DatedAllTypesFinder.nullableByteArrayValue(), this.mapper, this.zGetValueSelector());
+				this.nullableByteArrayValue = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> nullableBigDecimalValue()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.nullableBigDecimalValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("NULL_BIG_DECIMAL_COL","","nullableBigDecimalValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,10,5, false) :
+					new MappedBigDecimalAttribute(DatedAllTypesFinder.nullableBigDecimalValue(), this.mapper, this.zGetValueSelector());
+				this.nullableBigDecimalValue = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,DatedAllTypesFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAllTypesFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,DatedAllTypesFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAllTypesFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,DatedAllTypesFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAllTypesFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,DatedAllTypesFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAllTypesFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),DatedAllTypesFinder.businessDateInfinity,false,false,DatedAllTypesFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(DatedAllTypesFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),DatedAllTypesFinder.processingDateInfinity,false,true,DatedAllTypesFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(DatedAllTypesFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return DatedAllTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return DatedAllTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class DatedAllTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends DatedAllTypesRelatedFinder<ParentOwnerType, ReturnType, DatedAllTypesList, OwnerType>
+	{
+		public DatedAllTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class DatedAllTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends DatedAllTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedAllTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class DatedAllTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends DatedAllTypesRelatedFinder<ParentOwnerType, ReturnType, DatedAllTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public DatedAllTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public DatedAllTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(DatedAllTypes other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public DatedAllTypes findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+		{
+			DatedAllTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (DatedAllTypes) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class DatedAllTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends DatedAllTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedAllTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to DATED_ALL_TYPES.ID **/
+	public static IntegerAttribute<DatedAllTypes> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to DATED_ALL_TYPES.BOOL_COL **/
+	public static BooleanAttribute<DatedAllTypes> booleanValue()
+	{
+		return finder.booleanValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.BYTE_COL **/
+	public static ByteAttribute<DatedAllTypes> byteValue()
+	{
+		return finder.byteValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.SHORT_COL **/
+	public static ShortAttribute<DatedAllTypes> shortValue()
+	{
+		return finder.shortValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.CHAR_COL **/
+	public static CharAttribute<DatedAllTypes> charValue()
+	{
+		return finder.charValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.INT_COL **/
+	public static IntegerAttribute<DatedAllTypes> intValue()
+	{
+		return finder.intValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.LONG_COL **/
+	public static LongAttribute<DatedAllTypes> longValue()
+	{
+		return finder.longValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.FLOAT_COL **/
+	public static FloatAttribute<DatedAllTypes> floatValue()
+	{
+		return finder.floatValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.DOUBLE_COL **/
+	public static DoubleAttribute<DatedAllTypes> doubleValue()
+	{
+		return finder.doubleValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.DATE_COL **/
+	public static DateAttribute<DatedAllTypes> dateValue()
+	{
+		return finder.dateValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.TIME_COL **/
+	public static TimeAttribute<DatedAllTypes> timeValue()
+	{
+		return finder.timeValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.TIMESTAMP_COL **/
+	public static TimestampAttribute<DatedAllTypes> timestampValue()
+	{
+		return finder.timestampValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.STRING_COL **/
+	public static StringAttribute<DatedAllTypes> stringValue()
+	{
+		return finder.stringValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.BYTE_ARRAY_COL **/
+	public static ByteArrayAttribute<DatedAllTypes> byteArrayValue()
+	{
+		return finder.byteArrayValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.BIG_DECIMAL_COL **/
+	public static BigDecimalAttribute<DatedAllTypes> bigDecimalValue()
+	{
+		return finder.bigDecimalValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_BYTE_COL **/
+	public static ByteAttribute<DatedAllTypes> nullableByteValue()
+	{
+		return finder.nullableByteValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_SHORT_COL **/
+	public static ShortAttribute<DatedAllTypes> nullableShortValue()
+	{
+		return finder.nullableShortValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_CHAR_COL **/
+	public static CharAttribute<DatedAllTypes> nullableCharValue()
+	{
+		return finder.nullableCharValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_INT_COL **/
+	public static IntegerAttribute<DatedAllTypes> nullableIntValue()
+	{
+		return finder.nullableIntValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_LONG_COL **/
+	public static LongAttribute<DatedAllTypes> nullableLongValue()
+	{
+		return finder.nullableLongValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_FLOAT_COL **/
+	public static FloatAttribute<DatedAllTypes> nullableFloatValue()
+	{
+		return finder.nullableFloatValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_DOUBLE_COL **/
+	public static DoubleAttribute<DatedAllTypes> nullableDoubleValue()
+	{
+		return finder.nullableDoubleValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_DATE_COL **/
+	public static DateAttribute<DatedAllTypes> nullableDateValue()
+	{
+		return finder.nullableDateValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_TIME_COL **/
+	public static TimeAttribute<DatedAllTypes> nullableTimeValue()
+	{
+		return finder.nullableTimeValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_TIMESTAMP_COL **/
+	public static TimestampAttribute<DatedAllTypes> nullableTimestampValue()
+	{
+		return finder.nullableTimestampValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_STRING_COL **/
+	public static StringAttribute<DatedAllTypes> nullableStringValue()
+	{
+		return finder.nullableStringValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_BYTE_ARRAY_COL **/
+	public static ByteArrayAttribute<DatedAllTypes> nullableByteArrayValue()
+	{
+		return finder.nullableByteArrayValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.NULL_BIG_DECIMAL_COL **/
+	public static BigDecimalAttribute<DatedAllTypes> nullableBigDecimalValue()
+	{
+		return finder.nullableBigDecimalValue();
+	}
+
+	/** maps to DATED_ALL_TYPES.FROM_Z **/
+	public static TimestampAttribute<DatedAllTypes> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to DATED_ALL_TYPES.THRU_Z **/
+	public static TimestampAttribute<DatedAllTypes> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to DATED_ALL_TYPES.IN_Z **/
+	public static TimestampAttribute<DatedAllTypes> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to DATED_ALL_TYPES.OUT_Z **/
+	public static TimestampAttribute<DatedAllTypes> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<DatedAllTypes> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<DatedAllTypes> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(DatedAllTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static DatedAllTypesSingleFinder<DatedAllTypes, Object, DatedAllTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = doubleValue();
+		result[1] = nullableDoubleValue();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[2];
+		result[0] = bigDecimalValue();
+		result[1] = nullableBigDecimalValue();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DatedAllTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,330 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedAllTypesListAbstract extends DelegatingList<DatedAllTypes> implements MithraDatedTransactionalList<DatedAllTypes>
+{
+	public DatedAllTypesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedAllTypesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedAllTypesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedAllTypesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DatedAllTypes[] elements()
+	{
+		DatedAllTypes[] result = new DatedAllTypes[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedAllTypesList intersection(DatedAllTypesList another)
+	{
+		return (DatedAllTypesList)super.intersection(another);
+	}
+
+	public DatedAllTypes getDatedAllTypesAt(int index)
+	{
+		return (DatedAllTypes)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedAllTypesFinder.getMithraObjectPortal();
+	}
+
+	public DatedAllTypesList getNonPersistentCopy()
+	{
+		DatedAllTypesList result = new DatedAllTypesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedAllTypesList asAdhoc()
+	{
+		return (DatedAllTypesList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<DatedAllTypes> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public DatedAllTypesList merge(MithraTransactionalList<DatedAllTypes> incoming, TopLevelMergeOptions<DatedAllTypes> mergeOptions)
+	{
+		return (DatedAllTypesList) super.merge(incoming, mergeOptions);
+	}
+
+	public DatedAllTypesList getDetachedCopy()
+	{
+		DatedAllTypesList result = new DatedAllTypesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(DatedAllTypesFinder.id(), newValue);
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(DatedAllTypesFinder.booleanValue(), newValue);
+	}
+
+	public void setByteValue(byte newValue)
+	{
+		zSetByte(DatedAllTypesFinder.byteValue(), newValue);
+	}
+
+	public void setShortValue(short newValue)
+	{
+		zSetShort(DatedAllTypesFinder.shortValue(), newValue);
+	}
+
+	public void setCharValue(char newValue)
+	{
+		zSetChar(DatedAllTypesFinder.charValue(), newValue);
+	}
+
+	public void setIntValue(int newValue)
+	{
+		zSetInteger(DatedAllTypesFinder.intValue(), newValue);
+	}
+
+	public void setLongValue(long newValue)
+	{
+		zSetLong(DatedAllTypesFinder.longValue(), newValue);
+	}
+
+	public void setFloatValue(float newValue)
+	{
+		zSetFloat(DatedAllTypesFinder.floatValue(), newValue);
+	}
+
+	public void setDoubleValue(double newValue)
+	{
+		zSetDouble(DatedAllTypesFinder.doubleValue(), newValue);
+	}
+
+	public void setDateValue(Date newValue)
+	{
+		zSetDate(DatedAllTypesFinder.dateValue(), newValue);
+	}
+
+	public void setTimeValue(Time newValue)
+	{
+		zSetTime(DatedAllTypesFinder.timeValue(), newValue);
+	}
+
+	public void setTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.timestampValue(), newValue);
+	}
+
+	public void setStringValue(String newValue)
+	{
+		zSetString(DatedAllTypesFinder.stringValue(), newValue);
+	}
+
+	public void setByteArrayValue(byte[] newValue)
+	{
+		zSetByteArray(DatedAllTypesFinder.byteArrayValue(), newValue);
+	}
+
+	public void setBigDecimalValue(BigDecimal newValue)
+	{
+		zSetBigDecimal(DatedAllTypesFinder.bigDecimalValue(), newValue);
+	}
+
+	public void setNullableByteValue(byte newValue)
+	{
+		zSetByte(DatedAllTypesFinder.nullableByteValue(), newValue);
+	}
+
+	public void setNullableShortValue(short newValue)
+	{
+		zSetShort(DatedAllTypesFinder.nullableShortValue(), newValue);
+	}
+
+	public void setNullableCharValue(char newValue)
+	{
+		zSetChar(DatedAllTypesFinder.nullableCharValue(), newValue);
+	}
+
+	public void setNullableIntValue(int newValue)
+	{
+		zSetInteger(DatedAllTypesFinder.nullableIntValue(), newValue);
+	}
+
+	public void setNullableLongValue(long newValue)
+	{
+		zSetLong(DatedAllTypesFinder.nullableLongValue(), newValue);
+	}
+
+	public void setNullableFloatValue(float newValue)
+	{
+		zSetFloat(DatedAllTypesFinder.nullableFloatValue(), newValue);
+	}
+
+	public void setNullableDoubleValue(double newValue)
+	{
+		zSetDouble(DatedAllTypesFinder.nullableDoubleValue(), newValue);
+	}
+
+	public void setNullableDateValue(Date newValue)
+	{
+		zSetDate(DatedAllTypesFinder.nullableDateValue(), newValue);
+	}
+
+	public void setNullableTimeValue(Time newValue)
+	{
+		zSetTime(DatedAllTypesFinder.nullableTimeValue(), newValue);
+	}
+
+	public void setNullableTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.nullableTimestampValue(), newValue);
+	}
+
+	public void setNullableStringValue(String newValue)
+	{
+		zSetString(DatedAllTypesFinder.nullableStringValue(), newValue);
+	}
+
+	public void setNullableByteArrayValue(byte[] newValue)
+	{
+		zSetByteArray(DatedAllTypesFinder.nullableByteArrayValue(), newValue);
+	}
+
+	public void setNullableBigDecimalValue(BigDecimal newValue)
+	{
+		zSetBigDecimal(DatedAllTypesFinder.nullableBigDecimalValue(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.processingDateTo(), newValue);
+	}
+
+	public void setNullableByteValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesFinder.nullableByteValue());
+	}
+
+	public void setNullableShortValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesFinder.nullableShortValue());
+	}
+
+	public void setNullableCharValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesFinder.nullableCharValue());
+	}
+
+	public void setNullableIntValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesFinder.nullableIntValue());
+	}
+
+	public void setNullableLongValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesFinder.nullableLongValue());
+	}
+
+	public void setNullableFloatValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesFinder.nullableFloatValue());
+	}
+
+	public void setNullableDoubleValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesFinder.nullableDoubleValue());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
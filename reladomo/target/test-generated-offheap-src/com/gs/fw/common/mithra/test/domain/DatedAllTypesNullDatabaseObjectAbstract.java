@@ -0,0 +1,855 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class DatedAllTypesNullDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "BOOL_COL,BYTE_COL,SHORT_COL,CHAR_COL,INT_COL,LONG_COL,FLOAT_COL,DOUBLE_COL,DATE_COL,TIME_COL,TIMESTAMP_COL,STRING_COL,BYTE_ARRAY_COL,BIG_DECIMAL_COL,NULL_BYTE_COL,NULL_SHORT_COL,NULL_CHAR_COL,NULL_INT_COL,NULL_LONG_COL,NULL_FLOAT_COL,NULL_DOUBLE_COL,NULL_DATE_COL,NULL_TIME_COL,NULL_TIMESTAMP_COL,NULL_STRING_COL,NULL_BYTE_ARRAY_COL,NULL_BIG_DECIMAL_COL,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.BOOL_COL,t0.BYTE_COL,t0.SHORT_COL,t0.CHAR_COL,t0.INT_COL,t0.LONG_COL,t0.FLOAT_COL,t0.DOUBLE_COL,t0.DATE_COL,t0.TIME_COL,t0.TIMESTAMP_COL,t0.STRING_COL,t0.BYTE_ARRAY_COL,t0.BIG_DECIMAL_COL,t0.NULL_BYTE_COL,t0.NULL_SHORT_COL,t0.NULL_CHAR_COL,t0.NULL_INT_COL,t0.NULL_LONG_COL,t0.NULL_FLOAT_COL,t0.NULL_DOUBLE_COL,t0.NULL_DATE_COL,t0.NULL_TIME_COL,t0.NULL_TIMESTAMP_COL,t0.NULL_STRING_COL,t0.NULL_BYTE_ARRAY_COL,t0.NULL_BIG_DECIMAL_COL,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected DatedAllTypesNullDatabaseObjectAbstract()
+	{
+		super("DatedAllTypesNull", "com.gs.fw.common.mithra.test.domain.DatedAllTypesNullFinder",
+			32, 32,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedAllTypesNullFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return DatedAllTypesNullFinder.getFinderInstance();
+	}
+
+	public static DatedAllTypesNullData allocateOnHeapData()
+	{
+		return new DatedAllTypesNullData();
+	}
+
+	public static DatedAllTypesNullData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new DatedAllTypesNullData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), DatedAllTypesNullFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), DatedAllTypesNullFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		DatedAllTypesNullData data = new DatedAllTypesNullData();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), DatedAllTypesNullFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), DatedAllTypesNullFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullDatedTransactionalCache(DatedAllTypesNullFinder.getPrimaryKeyAttributes(), DatedAllTypesNullFinder.getAsOfAttributes(), this, DatedAllTypesNullFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullDatedCache(DatedAllTypesNullFinder.getPrimaryKeyAttributes(), DatedAllTypesNullFinder.getAsOfAttributes(), this, DatedAllTypesNullFinder.getImmutableAttributes());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(DatedAllTypesNullFinder.getPrimaryKeyAttributes(), DatedAllTypesNullFinder.getAsOfAttributes(), this, DatedAllTypesNullFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialDatedCache(DatedAllTypesNullFinder.getPrimaryKeyAttributes(), DatedAllTypesNullFinder.getAsOfAttributes(), this, DatedAllTypesNullFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			DatedAllTypesNullFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			DatedAllTypesNullFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			DatedAllTypesNull.zConfigFullTx();
+		}
+		else
+		{
+			DatedAllTypesNull.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateDatedAllTypesNullData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkDatedAllTypesNullData(1, (DatedAllTypesNullData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateDatedAllTypesNullPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getDatedAllTypesNullTableName();
+	}
+
+	public String getDatedAllTypesNullTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		DatedAllTypesNullData data = (DatedAllTypesNullData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (DatedAllTypesNullFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		DatedAllTypesNullData data = (DatedAllTypesNullData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		if (data.getBusinessDateTo() != null)
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getBusinessDateTo().getTime() == DatedAllTypesNullFinder.businessDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.getProcessingDateTo() != null)
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getProcessingDateTo().getTime() == DatedAllTypesNullFinder.processingDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (DatedAllTypesNullFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.BOOL_COL,t0.BYTE_COL,t0.SHORT_COL,t0.CHAR_COL,t0.INT_COL,t0.LONG_COL,t0.FLOAT_COL,t0.DOUBLE_COL,t0.DATE_COL,t0.TIME_COL,t0.TIMESTAMP_COL,t0.STRING_COL,t0.BYTE_ARRAY_COL,t0.BIG_DECIMAL_COL,t0.NULL_BYTE_COL,t0.NULL_SHORT_COL,t0.NULL_CHAR_COL,t0.NULL_INT_COL,t0.NULL_LONG_COL,t0.NULL_FLOAT_COL,t0.NULL_DOUBLE_COL,t0.NULL_DATE_COL,t0.NULL_TIME_COL,t0.NULL_TIMESTAMP_COL,t0.NULL_STRING_COL,t0.NULL_BYTE_ARRAY_COL,t0.NULL_BIG_DECIMAL_COL,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*32);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("BOOL_COL");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_COL");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_COL");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_COL");
+		result.append(",").append(databaseAlias).append(".").append("INT_COL");
+		result.append(",").append(databaseAlias).append(".").append("LONG_COL");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_COL");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_COL");
+		result.append(",").append(databaseAlias).append(".").append("DATE_COL");
+		result.append(",").append(databaseAlias).append(".").append("TIME_COL");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_COL");
+		result.append(",").append(databaseAlias).append(".").append("STRING_COL");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_ARRAY_COL");
+		result.append(",").append(databaseAlias).append(".").append("BIG_DECIMAL_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_BYTE_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_SHORT_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_CHAR_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_INT_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_LONG_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FLOAT_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_DOUBLE_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_DATE_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_TIME_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_TIMESTAMP_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_STRING_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_BYTE_ARRAY_COL");
+		result.append(",").append(databaseAlias).append(".").append("NULL_BIG_DECIMAL_COL");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public DatedAllTypesNullData inflateDatedAllTypesNullData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		DatedAllTypesNullData data = inflateDatedAllTypesNullPkData(rs, dt);
+		inflateNonPkDatedAllTypesNullData(2, data, rs, dt);
+		return data;
+	}
+
+	public DatedAllTypesNullData inflateDatedAllTypesNullPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		DatedAllTypesNullData _data = new DatedAllTypesNullData();
+		int _pos = 1;
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkDatedAllTypesNullData(int _pos, DatedAllTypesNullData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			DatedAllTypesNullData _data = _datax;
+			_data.setBooleanValue(_rs.getBoolean(_pos++));
+			checkNullPrimitive(_rs, _data, "booleanValue");
+			_data.setByteValue(_rs.getByte(_pos++));
+			checkNullPrimitive(_rs, _data, "byteValue");
+			_data.setShortValue(_rs.getShort(_pos++));
+			checkNullPrimitive(_rs, _data, "shortValue");
+			String charValueCharValue = _rs.getString(_pos++);
+			boolean charValueCharValueisNull = charValueCharValue == null || charValueCharValue.length() < 1;
+			if(!charValueCharValueisNull)
+			{
+				if(charValueCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(charValueCharValue.length() == 1)
+				{
+					_data.setCharValue(charValueCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				throw new MithraBusinessException("attribute ' charValue ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			_data.setIntValue(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "intValue");
+			_data.setLongValue(_rs.getLong(_pos++));
+			checkNullPrimitive(_rs, _data, "longValue");
+			_data.setFloatValue(_rs.getFloat(_pos++));
+			checkNullPrimitive(_rs, _data, "floatValue");
+			_data.setDoubleValue(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "doubleValue");
+			_data.setDateValue(_rs.getDate(_pos++));
+			checkNullPrimitive(_rs, _data, "dateValue");
+			_data.setTimeValue(_dt.getTime(_rs, _pos++));
+			checkNullPrimitive(_rs, _data, "timeValue");
+			Timestamp timestampValuetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setTimestampValue(timestampValuetimestampValue);
+			_data.setStringValue(trimString(_rs.getString(_pos++)));
+			_data.setByteArrayValue(_rs.getBytes(_pos++));
+			checkNullPrimitive(_rs, _data, "byteArrayValue");
+			_data.setBigDecimalValue(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 5));
+			checkNullPrimitive(_rs, _data, "bigDecimalValue");
+			_data.setNullableByteValue(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableByteValueNull();
+			}
+
+			_data.setNullableShortValue(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableShortValueNull();
+			}
+
+			String nullableCharValueCharValue = _rs.getString(_pos++);
+			boolean nullableCharValueCharValueisNull = nullableCharValueCharValue == null || nullableCharValueCharValue.length() < 1;
+			if(!nullableCharValueCharValueisNull)
+			{
+				if(nullableCharValueCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(nullableCharValueCharValue.length() == 1)
+				{
+					_data.setNullableCharValue(nullableCharValueCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setNullableCharValueNull();
+			}
+
+			_data.setNullableIntValue(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableIntValueNull();
+			}
+
+			_data.setNullableLongValue(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableLongValueNull();
+			}
+
+			_data.setNullableFloatValue(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableFloatValueNull();
+			}
+
+			_data.setNullableDoubleValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableDoubleValueNull();
+			}
+
+			_data.setNullableDateValue(_rs.getDate(_pos++));
+			_data.setNullableTimeValue(_dt.getTime(_rs, _pos++));
+			Timestamp nullableTimestampValuetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setNullableTimestampValue(nullableTimestampValuetimestampValue);
+			_data.setNullableStringValue(trimString(_rs.getString(_pos++)));
+			_data.setNullableByteArrayValue(_rs.getBytes(_pos++));
+			_data.setNullableBigDecimalValue(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 5));
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getDatedAllTypesNullTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "DATED_ALL_TYPES_NULL";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		DatedAllTypesNullData data = (DatedAllTypesNullData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		stm.setBoolean(pos++, data.isBooleanValue());
+		stm.setByte(pos++, data.getByteValue());
+		stm.setShort(pos++, data.getShortValue());
+		stm.setString(pos++, String.valueOf(data.getCharValue()));
+		stm.setInt(pos++, data.getIntValue());
+		stm.setLong(pos++, data.getLongValue());
+		stm.setFloat(pos++, data.getFloatValue());
+		stm.setDouble(pos++, data.getDoubleValue());
+		if(data.isDateValueNull())
+		{
+			throwNullAttribute("dateValue");
+		}
+
+		stm.setDate(pos++, data.getDateValue());
+		if(data.isTimeValueNull())
+		{
+			throwNullAttribute("timeValue");
+		}
+
+		dt.setTime(stm, pos++, data.getTimeValue());
+		if(data.isTimestampValueNull())
+		{
+			throwNullAttribute("timestampValue");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getTimestampValue(), false, conversionTimeZone);
+		pos++;
+		if(data.isStringValueNull())
+		{
+			throwNullAttribute("stringValue");
+		}
+
+		stm.setString(pos++, data.getStringValue());
+		if(data.isByteArrayValueNull())
+		{
+			throwNullAttribute("byteArrayValue");
+		}
+
+		stm.setBytes(pos++, data.getByteArrayValue());
+		if(data.isBigDecimalValueNull())
+		{
+			throwNullAttribute("bigDecimalValue");
+		}
+
+		stm.setBigDecimal(pos++, data.getBigDecimalValue());
+		if (data.isNullableByteValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getNullableByteValue());
+		}
+
+		if (data.isNullableShortValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getNullableShortValue());
+		}
+
+		if (data.isNullableCharValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getNullableCharValue()));
+		}
+
+		if (data.isNullableIntValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableIntValue());
+		}
+
+		if (data.isNullableLongValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getNullableLongValue());
+		}
+
+		if (data.isNullableFloatValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getNullableFloatValue());
+		}
+
+		if (data.isNullableDoubleValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getNullableDoubleValue());
+		}
+
+		if (data.isNullableDateValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getNullableDateValue());
+		}
+
+		if (data.isNullableTimeValueNull())
+		{
+			dt.setTimeNull(stm, pos++);
+		}
+		else
+		{
+			dt.setTime(stm, pos++, data.getNullableTimeValue());
+		}
+
+		if (data.isNullableTimestampValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getNullableTimestampValue(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isNullableStringValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getNullableStringValue());
+		}
+
+		if (data.isNullableByteArrayValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARBINARY);
+		}
+		else
+		{
+			stm.setBytes(pos++, data.getNullableByteArrayValue());
+		}
+
+		if (data.isNullableBigDecimalValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getNullableBigDecimalValue());
+		}
+
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if (data.isBusinessDateToNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getBusinessDateTo().getTime() == DatedAllTypesNullFinder.businessDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if (data.isProcessingDateToNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getProcessingDateTo().getTime() == DatedAllTypesNullFinder.processingDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,BOOL_COL,BYTE_COL,SHORT_COL,CHAR_COL,INT_COL,LONG_COL,FLOAT_COL,DOUBLE_COL,DATE_COL,TIME_COL,TIMESTAMP_COL,STRING_COL,BYTE_ARRAY_COL,BIG_DECIMAL_COL,NULL_BYTE_COL,NULL_SHORT_COL,NULL_CHAR_COL,NULL_INT_COL,NULL_LONG_COL,NULL_FLOAT_COL,NULL_DOUBLE_COL,NULL_DATE_COL,NULL_TIME_COL,NULL_TIMESTAMP_COL,NULL_STRING_COL,NULL_BYTE_ARRAY_COL,NULL_BIG_DECIMAL_COL,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		DatedAllTypesNull newObject = new DatedAllTypesNull(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromDatedAllTypesNullData((DatedAllTypesNullData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(DatedAllTypesNullFinder.getMithraObjectPortal(),
+			DatedAllTypesNullFinder.processingDate())
+		,DatedAllTypesNullFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		if (((DatedAllTypesNullData)data).getBusinessDateTo() == null)
+		{
+			result +="THRU_Z is null";
+		}
+		else 
+		{
+			result +="THRU_Z = ?";
+		}
+
+		result += " AND ";
+		if (((DatedAllTypesNullData)data).getProcessingDateTo() == null)
+		{
+			result +="OUT_Z is null";
+		}
+		else 
+		{
+			result +="OUT_Z = ?";
+		}
+
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		DatedAllTypesNullData data = (DatedAllTypesNullData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, DatedAllTypesNullFinder.businessDate(),
+			DatedAllTypesNullFinder.processingDate());
+	}
+}
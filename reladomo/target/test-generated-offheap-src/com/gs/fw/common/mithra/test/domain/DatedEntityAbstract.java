@@ -0,0 +1,553 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class DatedEntityAbstract
+implements MithraDatedObject, Serializable
+{
+	protected DatedEntityData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy fordatedEntityDesc = new DatedEntityDescRhs();
+	private static final class DatedEntityDescRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = DatedEntityDescFinder.businessDate();
+		private AsOfAttribute processingDate = DatedEntityDescFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DatedEntity _castedSrcObject = (DatedEntity) _srcObject;
+			DatedEntityData _castedSrcData = (DatedEntityData) _srcData;
+			DatedEntityDescData _castedTargetData = (DatedEntityDescData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DatedEntityData _castedSrcData = (DatedEntityData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public DatedEntityAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, DatedEntityFinder.isFullCache());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromDatedEntityData( DatedEntityData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromDatedEntityData( DatedEntityData data )
+	{
+		this.setFromDatedEntityData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromDatedEntityData( (DatedEntityData) data );
+	}
+
+	public DatedEntity getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		DatedEntityAbstract copy = (DatedEntityAbstract)
+		DatedEntityFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (DatedEntity)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		DatedEntityData data = (DatedEntityData) DatedEntityFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("DatedEntity has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return DatedEntityFinder.getMithraObjectPortal().getCache();
+	}
+
+	public DatedEntityData zGetCurrentDataWithCheck()
+	{
+		DatedEntityData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private DatedEntityData zRefreshData(DatedEntityData current)
+	{
+		DatedEntityData newData = (DatedEntityData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("DatedEntity has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(DatedEntityData current)
+	{
+		boolean refresh = !DatedEntityFinder.processingDate().dataMatches(current, processingDate);
+		return refresh;
+	}
+
+	private DatedEntityData zGetOrInitializeInMemoryData()
+	{
+		DatedEntityData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new DatedEntityData.DatedEntityDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		DatedEntityData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			DatedEntityData newData = (DatedEntityData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isFromZNull()
+	{
+		return this.currentData.isFromZNull();
+	}
+
+	public Timestamp getFromZ()
+	{
+		DatedEntityData data = this.currentData;
+		return data.getFromZ();
+	}
+
+	public void setFromZ(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setFromZ(newValue);
+	}
+
+	public boolean isIdNull()
+	{
+		return this.currentData.isIdNull();
+	}
+
+	public int getId()
+	{
+		DatedEntityData data = this.currentData;
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setId(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		DatedEntityData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		DatedEntityData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isRateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRateNull();
+	}
+
+	public double getRate()
+	{
+		DatedEntityData data = this.zGetCurrentDataWithCheck();
+		if (data.isRateNull())
+		MithraNullPrimitiveException.throwNew("rate", data);
+		return data.getRate();
+	}
+
+	public void setRate(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRate(newValue);
+	}
+
+	public boolean isThruZNull()
+	{
+		return this.zGetCurrentDataWithCheck().isThruZNull();
+	}
+
+	public Timestamp getThruZ()
+	{
+		DatedEntityData data = this.zGetCurrentDataWithCheck();
+		return data.getThruZ();
+	}
+
+	public void setThruZ(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setThruZ(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setRateNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRateNull();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedEntity.id = this.id and this.rate >= {rate}</pre>
+	* @return expensive entities
+	*/
+	public DatedEntityList getExpensiveEntities(double rate)
+	{
+		DatedEntityData _data = ((DatedEntityData)this.zGetCurrentDataWithCheck());
+		DatedEntityList _result = null;
+		if (_result == null)
+		{
+			Operation _op = null;
+			if (!_data.isRateNull() && _data.getRate()>=rate)
+			{
+				{
+					_op = DatedEntityFinder.id().eq(_data.getId()).and(DatedEntityFinder.processingDate().eq(this.getProcessingDate()));
+				}
+			}
+			else 
+			{
+				_result = new DatedEntityList( new None (
+					DatedEntityFinder.fromZ()));
+			}
+
+			if (_op != null)
+			{
+				_result = new DatedEntityList(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DatedEntityDesc.id and this.fromZ = DatedEntityDesc.businessDate</pre>
+	* @return The dated entity desc
+	*/
+	public DatedEntityDesc getDatedEntityDesc()
+	{
+		DatedEntityData _data = ((DatedEntityData)this.zGetCurrentDataWithCheck());
+		DatedEntityDesc _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (DatedEntityDesc) _data.getDatedEntityDesc();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			{
+				_portal = DatedEntityDescFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fordatedEntityDesc,this.getFromZ(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (DatedEntityDesc) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(DatedEntityFinder.datedEntityDesc().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = DatedEntityDescFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setDatedEntityDesc(DatedEntityDesc datedEntityDesc)
+	{
+		this.ensureSetAttributeAllowed();
+		DatedEntityData _data = this.zGetCurrentDataWithCheck();
+		_data.setDatedEntityDesc(datedEntityDesc);
+		if (datedEntityDesc == null)
+		{
+			this.setId(0);
+			this.setFromZ(null);
+		}
+		else
+		{
+			this.setId(
+				datedEntityDesc.getId());
+			this.setFromZ(
+				datedEntityDesc.getBusinessDate());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		DatedEntityData data = ((DatedEntityData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		DatedEntityData data = ((DatedEntityData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new DatedEntityData.DatedEntityDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), DatedEntityFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = DatedEntityFinder.processingDate().eq(processingDate);
+			op = op.and(DatedEntityFinder.fromZ().eq(currentData.getFromZ()));
+			op = op.and(DatedEntityFinder.id().eq(currentData.getId()));
+			return DatedEntityFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		DatedEntityData localData = (DatedEntityData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DatedEntityFinder.getMithraObjectPortal();
+	}
+}
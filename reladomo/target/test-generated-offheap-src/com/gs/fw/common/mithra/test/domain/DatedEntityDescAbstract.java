@@ -0,0 +1,555 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class DatedEntityDescAbstract
+implements MithraDatedObject, Serializable
+{
+	protected DatedEntityDescData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp businessDate;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy fordatedEntityDescType = new DatedEntityDescTypeRhs();
+	private static final class DatedEntityDescTypeRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = DatedEntityDescTypeFinder.businessDate();
+		private AsOfAttribute processingDate = DatedEntityDescTypeFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DatedEntityDesc _castedSrcObject = (DatedEntityDesc) _srcObject;
+			DatedEntityDescData _castedSrcData = (DatedEntityDescData) _srcData;
+			DatedEntityDescTypeData _castedTargetData = (DatedEntityDescTypeData) _targetData;
+			if (!_castedSrcData.isTypeNull() && _castedSrcData.getType().equals(_castedTargetData.getType()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DatedEntityDescData _castedSrcData = (DatedEntityDescData) _srcData;
+			return HashUtil.hash(_castedSrcData.getType());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DatedEntityDescData _castedSrcData = (DatedEntityDescData) _srcData;
+			return HashUtil.offHeapHash(_castedSrcData.zGetTypeAsInt());
+		}
+	}
+
+	public DatedEntityDescAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, DatedEntityDescFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, DatedEntityDescFinder.isFullCache());
+	}
+
+	public DatedEntityDescAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromDatedEntityDescData( DatedEntityDescData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromDatedEntityDescData( DatedEntityDescData data )
+	{
+		this.setFromDatedEntityDescData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromDatedEntityDescData( (DatedEntityDescData) data );
+	}
+
+	public DatedEntityDesc getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedEntityDescAbstract copy = (DatedEntityDescAbstract)
+		DatedEntityDescFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (DatedEntityDesc)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		DatedEntityDescData data = (DatedEntityDescData) DatedEntityDescFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("DatedEntityDesc has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return DatedEntityDescFinder.getMithraObjectPortal().getCache();
+	}
+
+	public DatedEntityDescData zGetCurrentDataWithCheck()
+	{
+		DatedEntityDescData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private DatedEntityDescData zRefreshData(DatedEntityDescData current)
+	{
+		DatedEntityDescData newData = (DatedEntityDescData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("DatedEntityDesc has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(DatedEntityDescData current)
+	{
+		boolean refresh = !DatedEntityDescFinder.businessDate().dataMatches(current, businessDate);
+		if (!refresh)
+		{
+			refresh = !DatedEntityDescFinder.processingDate().dataMatches(current, processingDate);
+		}
+
+		return refresh;
+	}
+
+	private DatedEntityDescData zGetOrInitializeInMemoryData()
+	{
+		DatedEntityDescData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new DatedEntityDescData.DatedEntityDescDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		DatedEntityDescData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			DatedEntityDescData newData = (DatedEntityDescData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateFromNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		DatedEntityDescData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateFrom(newValue);
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateToNull();
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		DatedEntityDescData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateTo(newValue);
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		DatedEntityDescData data = this.zGetCurrentDataWithCheck();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDescription(newValue);
+	}
+
+	public boolean isIdNull()
+	{
+		return this.currentData.isIdNull();
+	}
+
+	public int getId()
+	{
+		DatedEntityDescData data = this.currentData;
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setId(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		DatedEntityDescData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		DatedEntityDescData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isTypeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTypeNull();
+	}
+
+	public String getType()
+	{
+		DatedEntityDescData data = this.zGetCurrentDataWithCheck();
+		return data.getType();
+	}
+
+	public void setType(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setType(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.type = DatedEntityDescType.type</pre>
+	* @return The dated entity desc type
+	*/
+	public DatedEntityDescType getDatedEntityDescType()
+	{
+		DatedEntityDescData _data = ((DatedEntityDescData)this.zGetCurrentDataWithCheck());
+		DatedEntityDescType _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (DatedEntityDescType) _data.getDatedEntityDescType();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isTypeNull())
+			{
+				_portal = DatedEntityDescTypeFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fordatedEntityDescType,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (DatedEntityDescType) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(DatedEntityDescFinder.datedEntityDescType().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = DatedEntityDescTypeFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setDatedEntityDescType(DatedEntityDescType datedEntityDescType)
+	{
+		this.ensureSetAttributeAllowed();
+		DatedEntityDescData _data = this.zGetCurrentDataWithCheck();
+		_data.setDatedEntityDescType(datedEntityDescType);
+		if (datedEntityDescType == null)
+		{
+			this.setType(null);
+		}
+		else
+		{
+			this.setType(
+				datedEntityDescType.getType());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		DatedEntityDescData data = ((DatedEntityDescData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		DatedEntityDescData data = ((DatedEntityDescData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new DatedEntityDescData.DatedEntityDescDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), DatedEntityDescFinder.isFullCache());
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), DatedEntityDescFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = DatedEntityDescFinder.businessDate().eq(businessDate);
+			op = op.and(DatedEntityDescFinder.processingDate().eq(processingDate));
+			op = op.and(DatedEntityDescFinder.id().eq(currentData.getId()));
+			return DatedEntityDescFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		DatedEntityDescData localData = (DatedEntityDescData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DatedEntityDescFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,924 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DatedEntityDescFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/DatedEntityDesc";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.DatedEntityDesc";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DatedEntityDesc");
+	private static final DatedEntityDescSingleFinder<DatedEntityDesc, Object, DatedEntityDesc> finder = new DatedEntityDescSingleFinder<DatedEntityDesc, Object, DatedEntityDesc>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(DatedEntityDescFinder.DatedEntityDescRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("type");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("datedEntityDescType");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = DatedEntityDescFinder.type().constructEqualityMapper(DatedEntityDescTypeFinder.type());
+			result[1] = DatedEntityDescTypeFinder.type().constructEqualityMapper(DatedEntityDescFinder.type());
+			result[2] = DatedEntityDescFinder.businessDate().constructEqualityMapper(DatedEntityDescTypeFinder.businessDate());
+			result[3] = DatedEntityDescTypeFinder.businessDate().constructEqualityMapper(DatedEntityDescFinder.businessDate());
+			result[4] = DatedEntityDescFinder.processingDate().constructEqualityMapper(DatedEntityDescTypeFinder.processingDate());
+			result[5] = DatedEntityDescTypeFinder.processingDate().constructEqualityMapper(DatedEntityDescFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static DatedEntityDesc findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static DatedEntityDesc findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static DatedEntityDescList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedEntityDescList) finder.findMany(operation);
+	}
+
+	public static DatedEntityDescList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedEntityDescList) finder.findManyBypassCache(operation);
+	}
+
+	private static DatedEntityDesc findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (DatedEntityDesc) FinderUtils.findOne(found);
+	}
+
+	public static DatedEntityDesc findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DatedEntityDescData _castedTargetData = (DatedEntityDescData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return DatedEntityDescFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && DatedEntityDescFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static DatedEntityDesc zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (DatedEntityDesc) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class DatedEntityDescRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<DatedEntityDesc, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> type;
+		private StringAttribute<ParentOwnerType> description;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private DatedEntityDescDatedEntityDescTypeFinderSubclass<ParentOwnerType> datedEntityDescType;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public DatedEntityDescRelatedFinder()
+		{
+			super();
+		}
+
+		public DatedEntityDescRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DatedEntityDescFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return DatedEntityDescFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return DatedEntityDescFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return DatedEntityDescFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.id();
+			attributes[1] = this.type();
+			attributes[2] = this.description();
+			attributes[3] = this.businessDateFrom();
+			attributes[4] = this.businessDateTo();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.datedEntityDescType());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public DatedEntityDesc findOne(com.gs.fw.finder.Operation operation)
+		{
+			return DatedEntityDescFinder.findOne(operation, false);
+		}
+
+		public DatedEntityDesc findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return DatedEntityDescFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends DatedEntityDesc> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new DatedEntityDescList((Operation) operation);
+		}
+
+		public MithraList<? extends DatedEntityDesc> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			DatedEntityDescList result = (DatedEntityDescList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends DatedEntityDesc> constructEmptyList()
+		{
+			return new DatedEntityDescList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1057286112;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("id","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,false,4,-1,-1,false, false) :
+					new MappedIntegerAttribute(DatedEntityDescFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> type()
+		{
+			StringAttribute<ParentOwnerType> result = this.type;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"type\"","","type",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,44,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(DatedEntityDescFinder.type(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("datedEntityDescType");
+				this.type = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("description","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,24,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(DatedEntityDescFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("from_z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,8,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,DatedEntityDescFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedEntityDescFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("thru_z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,DatedEntityDescFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedEntityDescFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("in_z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,DatedEntityDescFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedEntityDescFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("out_z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,36,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,DatedEntityDescFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedEntityDescFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),DatedEntityDescFinder.businessDateInfinity,false,false,DatedEntityDescFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(DatedEntityDescFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),DatedEntityDescFinder.processingDateInfinity,false,true,DatedEntityDescFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(DatedEntityDescFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public DatedEntityDescTypeFinder.DatedEntityDescTypeSingleFinderForRelatedClasses<ParentOwnerType, DatedEntityDescType, DatedEntityDesc> datedEntityDescType()
+		{
+			DatedEntityDescDatedEntityDescTypeFinderSubclass<ParentOwnerType> result = this.datedEntityDescType;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DatedEntityDescFinder.zGetDatedEntityDescDatedEntityDescTypeReverseMapper());
+				newMapper.setToMany(false);
+				result = new DatedEntityDescDatedEntityDescTypeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datedEntityDescType = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return DatedEntityDescFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return DatedEntityDescFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class DatedEntityDescCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends DatedEntityDescRelatedFinder<ParentOwnerType, ReturnType, DatedEntityDescList, OwnerType>
+	{
+		public DatedEntityDescCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class DatedEntityDescCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends DatedEntityDescCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedEntityDescCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class DatedEntityDescSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends DatedEntityDescRelatedFinder<ParentOwnerType, ReturnType, DatedEntityDescList, OwnerType>
+	implements ToOneFinder
+	{
+		public DatedEntityDescSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public DatedEntityDescSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(DatedEntityDesc other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public DatedEntityDesc findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+		{
+			DatedEntityDesc _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (DatedEntityDesc) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class DatedEntityDescSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends DatedEntityDescSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedEntityDescSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper datedEntityDescTypeReverseMapper = null;
+	public static Mapper zGetDatedEntityDescDatedEntityDescTypeReverseMapper()
+	{
+		if (datedEntityDescTypeReverseMapper == null)
+		{
+			datedEntityDescTypeReverseMapper = zConstructDatedEntityDescDatedEntityDescTypeReverseMapper();
+		}
+
+		return datedEntityDescTypeReverseMapper;
+	}
+
+	private static Mapper datedEntityDescTypeMapper = null;
+	public static Mapper zGetDatedEntityDescDatedEntityDescTypeMapper()
+	{
+		if (datedEntityDescTypeMapper == null)
+		{
+			datedEntityDescTypeMapper = zConstructDatedEntityDescDatedEntityDescTypeMapper();
+		}
+
+		return datedEntityDescTypeMapper;
+	}
+
+	private static Mapper datedEntityDescTypePureReverseMapper = null;
+	public static Mapper zGetDatedEntityDescDatedEntityDescTypePureReverseMapper()
+	{
+		if (datedEntityDescTypePureReverseMapper == null)
+		{
+			datedEntityDescTypePureReverseMapper = zConstructDatedEntityDescDatedEntityDescTypePureReverseMapper();
+		}
+
+		return datedEntityDescTypePureReverseMapper;
+	}
+
+	private static Mapper zConstructDatedEntityDescDatedEntityDescTypePureReverseMapper()
+	{
+		InternalList datedEntityDescTypeMapperMapperList = new InternalList(3);
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(0));
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(2));
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(4));
+		Mapper datedEntityDescTypeMapper = new MultiEqualityMapper(datedEntityDescTypeMapperMapperList);
+		datedEntityDescTypeMapper.setName("datedEntityDescType");
+		return datedEntityDescTypeMapper;
+	}
+
+	private static Mapper zConstructDatedEntityDescDatedEntityDescTypeReverseMapper()
+	{
+		InternalList datedEntityDescTypeMapperMapperList = new InternalList(3);
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(0));
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(2));
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(4));
+		Mapper datedEntityDescTypeMapper = new MultiEqualityMapper(datedEntityDescTypeMapperMapperList);
+		datedEntityDescTypeMapper.setName("datedEntityDescType");
+		return datedEntityDescTypeMapper;
+	}
+
+	private static Mapper zConstructDatedEntityDescDatedEntityDescTypeMapper()
+	{
+		InternalList datedEntityDescTypeMapperMapperList = new InternalList(3);
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(1));
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(3));
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(5));
+		Mapper datedEntityDescTypeMapper = new MultiEqualityMapper(datedEntityDescTypeMapperMapperList);
+		datedEntityDescTypeMapper.setName("datedEntityDescType_Reverse");
+		return datedEntityDescTypeMapper;
+	}
+
+	/** maps to DATED_ENTITY_DESC.id **/
+	public static IntegerAttribute<DatedEntityDesc> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to DATED_ENTITY_DESC."type" **/
+	public static StringAttribute<DatedEntityDesc> type()
+	{
+		return finder.type();
+	}
+
+	/** maps to DATED_ENTITY_DESC.description **/
+	public static StringAttribute<DatedEntityDesc> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to DATED_ENTITY_DESC.from_z **/
+	public static TimestampAttribute<DatedEntityDesc> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to DATED_ENTITY_DESC.thru_z **/
+	public static TimestampAttribute<DatedEntityDesc> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to DATED_ENTITY_DESC.in_z **/
+	public static TimestampAttribute<DatedEntityDesc> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to DATED_ENTITY_DESC.out_z **/
+	public static TimestampAttribute<DatedEntityDesc> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<DatedEntityDesc> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<DatedEntityDesc> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static DatedEntityDescTypeFinder.DatedEntityDescTypeSingleFinderForRelatedClasses<DatedEntityDesc, DatedEntityDescType, DatedEntityDesc> datedEntityDescType()
+	{
+		return finder.datedEntityDescType();
+	}
+
+	public static class DatedEntityDescDatedEntityDescTypeFinderSubclass<ParentOwnerType> extends DatedEntityDescTypeFinder.DatedEntityDescTypeSingleFinderForRelatedClasses<ParentOwnerType, DatedEntityDescType, DatedEntityDesc>
+	{
+		public DatedEntityDescDatedEntityDescTypeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "datedEntityDescType";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				DatedEntityDescTypeFinder.type(),
+				DatedEntityDescTypeFinder.businessDate(),
+				DatedEntityDescTypeFinder.processingDate()).withExtractors(
+				DatedEntityDescFinder.type(),
+				DatedEntityDescFinder.businessDate(),
+				DatedEntityDescFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DatedEntityDescDatedEntityDescTypeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DatedEntityDescType plainValueOf(DatedEntityDesc _obj)
+		{
+			return _obj.getDatedEntityDescType();
+		}
+
+		protected DatedEntityDescTypeList plainListValueOf(Object _obj)
+		{
+			return ((DatedEntityDescList)_obj).getDatedEntityDescTypes();
+		}
+	}
+
+	public static Operation eq(DatedEntityDesc other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static DatedEntityDescSingleFinder<DatedEntityDesc, Object, DatedEntityDesc> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			type()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DatedEntityDesc");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
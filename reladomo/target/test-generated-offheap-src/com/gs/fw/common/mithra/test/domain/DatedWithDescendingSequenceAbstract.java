@@ -0,0 +1,689 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class DatedWithDescendingSequenceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		DatedWithDescendingSequenceFinder.businessDate()
+	,
+		DatedWithDescendingSequenceFinder.processingDate()
+	, DatedWithDescendingSequenceFinder.zGetDoubleAttributes(),DatedWithDescendingSequenceFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(DatedWithDescendingSequence.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public DatedWithDescendingSequenceAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, DatedWithDescendingSequenceFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, DatedWithDescendingSequenceFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public DatedWithDescendingSequenceAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public DatedWithDescendingSequenceData zSynchronizedGetData()
+	{
+		return (DatedWithDescendingSequenceData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !DatedWithDescendingSequenceFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !DatedWithDescendingSequenceFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertUntil(this, exclusiveUntil);
+	}
+
+	public void insertForRecovery() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertForRecovery(this);
+	}
+
+	public void insertWithIncrement() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrement(this);
+	}
+
+	public void insertWithIncrementUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrementUntil(this, exclusiveUntil);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public DatedWithDescendingSequence zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		DatedWithDescendingSequence original = (DatedWithDescendingSequence) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public DatedWithDescendingSequence copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (DatedWithDescendingSequence) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public DatedWithDescendingSequence copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (DatedWithDescendingSequence) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			DatedWithDescendingSequenceFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public DatedWithDescendingSequence getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedWithDescendingSequenceAbstract result = (DatedWithDescendingSequenceAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (DatedWithDescendingSequence ) result;
+	}
+
+	public DatedWithDescendingSequence zFindOriginal()
+	{
+		DatedWithDescendingSequenceData data = (DatedWithDescendingSequenceData) this.currentData;
+		Operation op;
+		op = DatedWithDescendingSequenceFinder.balanceId().eq(data.getBalanceId());
+		op = op.and(DatedWithDescendingSequenceFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(DatedWithDescendingSequenceFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(DatedWithDescendingSequenceFinder.processingDate().eq(this.getProcessingDate()));
+		return DatedWithDescendingSequenceFinder.findOne(op);
+	}
+
+	public DatedWithDescendingSequence getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedWithDescendingSequenceAbstract result = (DatedWithDescendingSequenceAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (DatedWithDescendingSequence ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public DatedWithDescendingSequence copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (DatedWithDescendingSequence) behavior.updateOriginalOrInsert(this);
+	}
+
+	public DatedWithDescendingSequence copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (DatedWithDescendingSequence) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			DatedWithDescendingSequenceData data = (DatedWithDescendingSequenceData) this.currentData;
+			Operation op = DatedWithDescendingSequenceFinder.businessDate().eq(this.businessDate);
+			op = op.and(DatedWithDescendingSequenceFinder.processingDate().eq(this.processingDate));
+			op = op.and(DatedWithDescendingSequenceFinder.balanceId().eq(data.getBalanceId()));
+			op = op.and(DatedWithDescendingSequenceFinder.acmapCode().eq(data.getAcmapCode()));
+			return DatedWithDescendingSequenceFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		DatedWithDescendingSequenceData data = (DatedWithDescendingSequenceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && DatedWithDescendingSequenceFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		DatedWithDescendingSequenceData data = (DatedWithDescendingSequenceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceIdNull()
+	{
+		return this.zSynchronizedGetData().isBalanceIdNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(DatedWithDescendingSequenceFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(DatedWithDescendingSequenceFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public long getBalanceId()
+	{
+		return this.zSynchronizedGetData().getBalanceId();
+	}
+
+	public void setBalanceId(long newValue)
+	{
+		zSetLong(DatedWithDescendingSequenceFinder.balanceId(), newValue, true ,false);
+	}
+
+	public void setBalanceIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(DatedWithDescendingSequenceFinder.balanceId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithDescendingSequenceFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithDescendingSequenceFinder.businessDateTo(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithDescendingSequenceFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithDescendingSequenceFinder.processingDateTo(), newValue, false );
+	}
+
+	public double getQuantity()
+	{
+		DatedWithDescendingSequenceData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(DatedWithDescendingSequenceFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(DatedWithDescendingSequenceFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, DatedWithDescendingSequenceFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, DatedWithDescendingSequenceFinder.quantity(), false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, DatedWithDescendingSequenceFinder.quantity(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		DatedWithDescendingSequenceData data2 = (DatedWithDescendingSequenceData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && DatedWithDescendingSequenceFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(DatedWithDescendingSequenceFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedWithDescendingSequenceFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DatedWithDescendingSequenceData _newData = (DatedWithDescendingSequenceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		DatedWithDescendingSequenceData _newData = (DatedWithDescendingSequenceData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		DatedWithDescendingSequenceData _newData = (DatedWithDescendingSequenceData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return DatedWithDescendingSequenceFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DatedWithDescendingSequenceData.DatedWithDescendingSequenceDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		DatedWithDescendingSequenceData data = (DatedWithDescendingSequenceData) DatedWithDescendingSequenceFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("DatedWithDescendingSequence has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromDatedWithDescendingSequenceData( DatedWithDescendingSequenceData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromDatedWithDescendingSequenceData( DatedWithDescendingSequenceData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) DatedWithDescendingSequenceFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DatedWithDescendingSequenceFinder.getMithraObjectPortal();
+	}
+
+	public DatedWithDescendingSequence getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(DatedWithDescendingSequenceAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		DatedWithDescendingSequenceAbstract from = (DatedWithDescendingSequenceAbstract) f;
+		DatedWithDescendingSequenceData newData = from.zSynchronizedGetData();
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		DatedWithDescendingSequenceData _newData = (DatedWithDescendingSequenceData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		DatedWithDescendingSequenceData _newData = (DatedWithDescendingSequenceData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(DatedWithDescendingSequenceAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		DatedWithDescendingSequenceAbstract from = (DatedWithDescendingSequenceAbstract)f;
+		DatedWithDescendingSequenceData newData = from.zSynchronizedGetData();
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		DatedWithDescendingSequenceData newData = (DatedWithDescendingSequenceData) d;
+		DatedWithDescendingSequenceData data = (DatedWithDescendingSequenceData) nd;
+		if (DatedWithDescendingSequenceFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, DatedWithDescendingSequenceFinder.acmapCode(), false);
+		changed |= zUpdateLong(behavior, data, newData, DatedWithDescendingSequenceFinder.balanceId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, DatedWithDescendingSequenceFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, DatedWithDescendingSequenceFinder.acmapCode(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, DatedWithDescendingSequenceFinder.balanceId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, DatedWithDescendingSequenceFinder.quantity(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		DatedWithDescendingSequenceData data = ((DatedWithDescendingSequenceData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		DatedWithDescendingSequenceData data = ((DatedWithDescendingSequenceData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		DatedWithDescendingSequenceData data = ((DatedWithDescendingSequenceData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public long generateAndSetBalanceId()
+	{
+		long nextValue =(long) this.generateBalanceId();
+		this.setBalanceId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsBalanceIdSet()
+	{
+		DatedWithDescendingSequenceData data = this.zSynchronizedGetData();
+		return data.zGetIsBalanceIdSet();
+	}
+
+	protected long generateBalanceId()
+	{
+		Object sourceAttribute = this.getAcmapCode();
+		DatedWithDescendingSequenceFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGenerator("BalanceDecrementingSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		DatedWithDescendingSequenceData data = (DatedWithDescendingSequenceData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsBalanceIdSet())
+		{
+			long newValue = this.generateBalanceId();
+			data.setBalanceId(newValue);
+		}
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), DatedWithDescendingSequenceFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), DatedWithDescendingSequenceFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		DatedWithDescendingSequenceData localData = (DatedWithDescendingSequenceData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,179 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedWithMaxListAbstract extends DelegatingList<DatedWithMax> implements MithraDatedTransactionalList<DatedWithMax>
+{
+	public DatedWithMaxListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedWithMaxListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedWithMaxListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedWithMaxListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DatedWithMax[] elements()
+	{
+		DatedWithMax[] result = new DatedWithMax[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedWithMaxList intersection(DatedWithMaxList another)
+	{
+		return (DatedWithMaxList)super.intersection(another);
+	}
+
+	public DatedWithMax getDatedWithMaxAt(int index)
+	{
+		return (DatedWithMax)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedWithMaxFinder.getMithraObjectPortal();
+	}
+
+	public DatedWithMaxList getNonPersistentCopy()
+	{
+		DatedWithMaxList result = new DatedWithMaxList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedWithMaxList asAdhoc()
+	{
+		return (DatedWithMaxList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<DatedWithMax> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public DatedWithMaxList merge(MithraTransactionalList<DatedWithMax> incoming, TopLevelMergeOptions<DatedWithMax> mergeOptions)
+	{
+		return (DatedWithMaxList) super.merge(incoming, mergeOptions);
+	}
+
+	public DatedWithMaxList getDetachedCopy()
+	{
+		DatedWithMaxList result = new DatedWithMaxList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+	}
+
+	public void setBalanceId(long newValue)
+	{
+		zSetLong(DatedWithMaxFinder.balanceId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(DatedWithMaxFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithMaxFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithMaxFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithMaxFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithMaxFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(DatedWithMaxFinder.acmapCode(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(DatedWithMaxFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
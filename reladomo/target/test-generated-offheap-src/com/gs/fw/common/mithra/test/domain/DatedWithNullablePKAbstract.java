@@ -0,0 +1,712 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class DatedWithNullablePKAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		DatedWithNullablePKFinder.businessDate()
+	,
+		DatedWithNullablePKFinder.processingDate()
+	, DatedWithNullablePKFinder.zGetDoubleAttributes(),DatedWithNullablePKFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(DatedWithNullablePK.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public DatedWithNullablePKAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, DatedWithNullablePKFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, DatedWithNullablePKFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public DatedWithNullablePKAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public DatedWithNullablePKData zSynchronizedGetData()
+	{
+		return (DatedWithNullablePKData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !DatedWithNullablePKFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !DatedWithNullablePKFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public DatedWithNullablePK zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		DatedWithNullablePK original = (DatedWithNullablePK) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public DatedWithNullablePK copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (DatedWithNullablePK) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public DatedWithNullablePK copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (DatedWithNullablePK) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			DatedWithNullablePKFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public DatedWithNullablePK getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedWithNullablePKAbstract result = (DatedWithNullablePKAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (DatedWithNullablePK ) result;
+	}
+
+	public DatedWithNullablePK zFindOriginal()
+	{
+		DatedWithNullablePKData data = (DatedWithNullablePKData) this.currentData;
+		Operation op;
+		op = DatedWithNullablePKFinder.objectId().eq(data.getObjectId());
+		if(data.isNullablePKComponentNull())
+		{
+			op = op.and(DatedWithNullablePKFinder.nullablePKComponent().isNull());
+		}
+		else
+		{
+			op = op.and(DatedWithNullablePKFinder.nullablePKComponent().eq(data.getNullablePKComponent()));
+		}
+
+		op = op.and(DatedWithNullablePKFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(DatedWithNullablePKFinder.processingDate().eq(this.getProcessingDate()));
+		return DatedWithNullablePKFinder.findOne(op);
+	}
+
+	public DatedWithNullablePK getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedWithNullablePKAbstract result = (DatedWithNullablePKAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (DatedWithNullablePK ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public DatedWithNullablePK copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (DatedWithNullablePK) behavior.updateOriginalOrInsert(this);
+	}
+
+	public DatedWithNullablePK copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (DatedWithNullablePK) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			DatedWithNullablePKData data = (DatedWithNullablePKData) this.currentData;
+			Operation op = DatedWithNullablePKFinder.businessDate().eq(this.businessDate);
+			op = op.and(DatedWithNullablePKFinder.processingDate().eq(this.processingDate));
+			if( data.isNullablePKComponentNull() )
+			{
+				op = op.and(DatedWithNullablePKFinder.nullablePKComponent().isNull());
+			}
+			else
+			{
+				op = op.and(DatedWithNullablePKFinder.nullablePKComponent().eq(data.getNullablePKComponent()));
+			}
+
+			op = op.and(DatedWithNullablePKFinder.objectId().eq(data.getObjectId()));
+			return DatedWithNullablePKFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		DatedWithNullablePKData otherData = (DatedWithNullablePKData)other.zGetTxDataForRead();
+		return ((DatedWithNullablePKData) this.zGetTxDataForRead()).zHasSameNullPrimaryKeyAttributes(otherData);
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		DatedWithNullablePKData data = (DatedWithNullablePKData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && DatedWithNullablePKFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		DatedWithNullablePKData data = (DatedWithNullablePKData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isNullablePKComponentNull()
+	{
+		return this.zSynchronizedGetData().isNullablePKComponentNull();
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return this.zSynchronizedGetData().isObjectIdNull();
+	}
+
+	public boolean isPriceNull()
+	{
+		return this.zSynchronizedGetData().isPriceNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithNullablePKFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithNullablePKFinder.businessDateTo(), newValue, false );
+	}
+
+	public int getNullablePKComponent()
+	{
+		DatedWithNullablePKData data = this.zSynchronizedGetData();
+		if (data.isNullablePKComponentNull()) MithraNullPrimitiveException.throwNew("nullablePKComponent", data);
+		return data.getNullablePKComponent();
+	}
+
+	public void setNullablePKComponent(int newValue)
+	{
+		zSetInteger(DatedWithNullablePKFinder.nullablePKComponent(), newValue, true ,true);
+	}
+
+	public void setNullablePKComponentUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(DatedWithNullablePKFinder.nullablePKComponent(), newValue, true , exclusiveUntil,true);
+	}
+
+	public int getObjectId()
+	{
+		return this.zSynchronizedGetData().getObjectId();
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(DatedWithNullablePKFinder.objectId(), newValue, true ,false);
+	}
+
+	public void setObjectIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(DatedWithNullablePKFinder.objectId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public double getPrice()
+	{
+		DatedWithNullablePKData data = this.zSynchronizedGetData();
+		if (data.isPriceNull()) MithraNullPrimitiveException.throwNew("price", data);
+		return data.getPrice();
+	}
+
+	public void setPrice(double newValue)
+	{
+		zSetDouble(DatedWithNullablePKFinder.price(), newValue, false ,true);
+	}
+
+	public void setPriceUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(DatedWithNullablePKFinder.price(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementPrice(double increment)
+	{
+		zIncrement(increment, DatedWithNullablePKFinder.price(), false);
+	}
+
+	public void incrementPriceUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, DatedWithNullablePKFinder.price(), false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithNullablePKFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithNullablePKFinder.processingDateTo(), newValue, false );
+	}
+
+	public double getQuantity()
+	{
+		DatedWithNullablePKData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(DatedWithNullablePKFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(DatedWithNullablePKFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, DatedWithNullablePKFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, DatedWithNullablePKFinder.quantity(), false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, DatedWithNullablePKFinder.nullablePKComponent(), true, mustCheckCurrent);
+		zNullify(behavior, data, DatedWithNullablePKFinder.quantity(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedWithNullablePKFinder.price(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		DatedWithNullablePKData data2 = (DatedWithNullablePKData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && DatedWithNullablePKFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setNullablePKComponentNull()
+	{
+		zNullify(DatedWithNullablePKFinder.nullablePKComponent(), true);
+	}
+
+	public void setNullablePKComponentNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedWithNullablePKFinder.nullablePKComponent(), true, exclusiveUntil);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(DatedWithNullablePKFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedWithNullablePKFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public void setPriceNull()
+	{
+		zNullify(DatedWithNullablePKFinder.price(), false);
+	}
+
+	public void setPriceNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedWithNullablePKFinder.price(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DatedWithNullablePKData _newData = (DatedWithNullablePKData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		DatedWithNullablePKData _newData = (DatedWithNullablePKData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		DatedWithNullablePKData _newData = (DatedWithNullablePKData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return DatedWithNullablePKFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DatedWithNullablePKData.DatedWithNullablePKDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		DatedWithNullablePKData data = (DatedWithNullablePKData) DatedWithNullablePKFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("DatedWithNullablePK has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromDatedWithNullablePKData( DatedWithNullablePKData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromDatedWithNullablePKData( DatedWithNullablePKData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) DatedWithNullablePKFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DatedWithNullablePKFinder.getMithraObjectPortal();
+	}
+
+	public DatedWithNullablePK getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(DatedWithNullablePKAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		DatedWithNullablePKAbstract from = (DatedWithNullablePKAbstract) f;
+		DatedWithNullablePKData newData = from.zSynchronizedGetData();
+		if (from.isPriceNull())
+		{
+			this.setPriceNull();
+		}
+		else
+		{
+			this.setPrice(newData.getPrice());
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		DatedWithNullablePKData _newData = (DatedWithNullablePKData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		DatedWithNullablePKData _newData = (DatedWithNullablePKData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(DatedWithNullablePKAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		DatedWithNullablePKAbstract from = (DatedWithNullablePKAbstract)f;
+		DatedWithNullablePKData newData = from.zSynchronizedGetData();
+		if (from.isPriceNull())
+		{
+			this.setPriceNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setPriceUntil(newData.getPrice(), exclusiveUntil);
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		DatedWithNullablePKData newData = (DatedWithNullablePKData) d;
+		DatedWithNullablePKData data = (DatedWithNullablePKData) nd;
+		if (DatedWithNullablePKFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, DatedWithNullablePKFinder.nullablePKComponent(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DatedWithNullablePKFinder.objectId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, DatedWithNullablePKFinder.price(), false);
+		changed |= zUpdateDouble(behavior, data, newData, DatedWithNullablePKFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, DatedWithNullablePKFinder.nullablePKComponent(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, DatedWithNullablePKFinder.objectId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, DatedWithNullablePKFinder.price(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, DatedWithNullablePKFinder.quantity(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		DatedWithNullablePKData data = ((DatedWithNullablePKData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		DatedWithNullablePKData data = ((DatedWithNullablePKData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		DatedWithNullablePKData data = ((DatedWithNullablePKData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), DatedWithNullablePKFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), DatedWithNullablePKFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		DatedWithNullablePKData localData = (DatedWithNullablePKData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
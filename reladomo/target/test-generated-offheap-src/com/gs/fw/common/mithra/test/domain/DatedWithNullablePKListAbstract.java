@@ -0,0 +1,190 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedWithNullablePKListAbstract extends DelegatingList<DatedWithNullablePK> implements MithraDatedTransactionalList<DatedWithNullablePK>
+{
+	public DatedWithNullablePKListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedWithNullablePKListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedWithNullablePKListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedWithNullablePKListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DatedWithNullablePK[] elements()
+	{
+		DatedWithNullablePK[] result = new DatedWithNullablePK[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedWithNullablePKList intersection(DatedWithNullablePKList another)
+	{
+		return (DatedWithNullablePKList)super.intersection(another);
+	}
+
+	public DatedWithNullablePK getDatedWithNullablePKAt(int index)
+	{
+		return (DatedWithNullablePK)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedWithNullablePKFinder.getMithraObjectPortal();
+	}
+
+	public DatedWithNullablePKList getNonPersistentCopy()
+	{
+		DatedWithNullablePKList result = new DatedWithNullablePKList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedWithNullablePKList asAdhoc()
+	{
+		return (DatedWithNullablePKList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<DatedWithNullablePK> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public DatedWithNullablePKList merge(MithraTransactionalList<DatedWithNullablePK> incoming, TopLevelMergeOptions<DatedWithNullablePK> mergeOptions)
+	{
+		return (DatedWithNullablePKList) super.merge(incoming, mergeOptions);
+	}
+
+	public DatedWithNullablePKList getDetachedCopy()
+	{
+		DatedWithNullablePKList result = new DatedWithNullablePKList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(DatedWithNullablePKFinder.objectId(), newValue);
+	}
+
+	public void setNullablePKComponent(int newValue)
+	{
+		zSetInteger(DatedWithNullablePKFinder.nullablePKComponent(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(DatedWithNullablePKFinder.quantity(), newValue);
+	}
+
+	public void setPrice(double newValue)
+	{
+		zSetDouble(DatedWithNullablePKFinder.price(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithNullablePKFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithNullablePKFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithNullablePKFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithNullablePKFinder.processingDateTo(), newValue);
+	}
+
+	public void setNullablePKComponentNull()
+	{
+		zSetAttributeNull(DatedWithNullablePKFinder.nullablePKComponent());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(DatedWithNullablePKFinder.quantity());
+	}
+
+	public void setPriceNull()
+	{
+		zSetAttributeNull(DatedWithNullablePKFinder.price());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
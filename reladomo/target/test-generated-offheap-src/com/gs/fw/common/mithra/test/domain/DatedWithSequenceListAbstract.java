@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedWithSequenceListAbstract extends DelegatingList<DatedWithSequence> implements MithraDatedTransactionalList<DatedWithSequence>
+{
+	public DatedWithSequenceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedWithSequenceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedWithSequenceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedWithSequenceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DatedWithSequence[] elements()
+	{
+		DatedWithSequence[] result = new DatedWithSequence[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedWithSequenceList intersection(DatedWithSequenceList another)
+	{
+		return (DatedWithSequenceList)super.intersection(another);
+	}
+
+	public DatedWithSequence getDatedWithSequenceAt(int index)
+	{
+		return (DatedWithSequence)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedWithSequenceFinder.getMithraObjectPortal();
+	}
+
+	public DatedWithSequenceList getNonPersistentCopy()
+	{
+		DatedWithSequenceList result = new DatedWithSequenceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedWithSequenceList asAdhoc()
+	{
+		return (DatedWithSequenceList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<DatedWithSequence> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public DatedWithSequenceList merge(MithraTransactionalList<DatedWithSequence> incoming, TopLevelMergeOptions<DatedWithSequence> mergeOptions)
+	{
+		return (DatedWithSequenceList) super.merge(incoming, mergeOptions);
+	}
+
+	public DatedWithSequenceList getDetachedCopy()
+	{
+		DatedWithSequenceList result = new DatedWithSequenceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysWithSourceAttribute((SequenceAttribute)DatedWithSequenceFinder.balanceId(), true, "DatedBalanceSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory");
+	}
+
+	public void setBalanceId(long newValue)
+	{
+		zSetLong(DatedWithSequenceFinder.balanceId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(DatedWithSequenceFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithSequenceFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithSequenceFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithSequenceFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithSequenceFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(DatedWithSequenceFinder.acmapCode(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(DatedWithSequenceFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,349 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class DbsTestEntityAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(DbsTestEntity.class.getName());
+	public DbsTestEntityAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public DbsTestEntity getDetachedCopy() throws MithraBusinessException
+	{
+		return (DbsTestEntity) super.getDetachedCopy();
+	}
+
+	public DbsTestEntity getNonPersistentCopy() throws MithraBusinessException
+	{
+		DbsTestEntity result = (DbsTestEntity) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public DbsTestEntity copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (DbsTestEntity) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public DbsTestEntity zFindOriginal()
+	{
+		DbsTestEntityData data = (DbsTestEntityData) this.currentData;
+		Operation op;
+		op = DbsTestEntityFinder.id().eq(data.getId());
+		return DbsTestEntityFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DbsTestEntityData();
+	}
+
+	protected void zSetFromDbsTestEntityData( DbsTestEntityData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromDbsTestEntityData( DbsTestEntityData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return ((DbsTestEntityData) this.zSynchronizedGetData()).isAccountIdNull();
+	}
+
+	public String getAccountId()
+	{
+		DbsTestEntityData data = (DbsTestEntityData) this.zSynchronizedGetData();
+		return data.getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(DbsTestEntityFinder.accountId(), newValue, false, false );
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((DbsTestEntityData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		DbsTestEntityData data = (DbsTestEntityData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(DbsTestEntityFinder.description(), newValue, false, false );
+	}
+
+	public boolean isGroupIdNull()
+	{
+		return ((DbsTestEntityData) this.zSynchronizedGetData()).isGroupIdNull();
+	}
+
+	public long getGroupId()
+	{
+		DbsTestEntityData data = (DbsTestEntityData) this.zSynchronizedGetData();
+		if (data.isGroupIdNull()) MithraNullPrimitiveException.throwNew("groupId", data);
+		return data.getGroupId();
+	}
+
+	public void setGroupId(long newValue)
+	{
+		zSetLong(DbsTestEntityFinder.groupId(), newValue, false, false ,true);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((DbsTestEntityData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		DbsTestEntityData data = (DbsTestEntityData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(DbsTestEntityFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isNameNull()
+	{
+		return ((DbsTestEntityData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		DbsTestEntityData data = (DbsTestEntityData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(DbsTestEntityFinder.name(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, DbsTestEntityFinder.groupId(), false);
+	}
+
+	public void setGroupIdNull()
+	{
+		zNullify(DbsTestEntityFinder.groupId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DbsTestEntityData _newData = (DbsTestEntityData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		DbsTestEntityData _newData = (DbsTestEntityData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DbsTestEntityData _newData = (DbsTestEntityData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public DbsTestEntity zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		DbsTestEntity original = (DbsTestEntity) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return DbsTestEntityFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DbsTestEntityFinder.getMithraObjectPortal();
+	}
+
+	public DbsTestEntity getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, DbsTestEntityFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, DbsTestEntityFinder.description(), false);
+		changed |= zUpdateLong(behavior, data, newData, DbsTestEntityFinder.groupId(), false);
+		changed |= zUpdateString(behavior, data, newData, DbsTestEntityFinder.name(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, DbsTestEntityFinder.id(), false);
+		return changed;
+	}
+
+	public int generateAndSetId()
+	{
+		int nextValue =(int) this.generateId();
+		this.setId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DbsTestEntityData data = (DbsTestEntityData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsIdSet();
+	}
+
+	protected int generateId()
+	throws MithraBusinessException
+	{
+		MaxFromTablePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getMaxFromTablePrimaryKeyGenerator(DbsTestEntityFinder.id(),null);
+		return (int)primaryKeyGenerator.getNextId();
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DbsTestEntityData data = (DbsTestEntityData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsIdSet())
+		{
+			data.setId(generateId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		DbsTestEntityAbstract result = (DbsTestEntityAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,392 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DbsTestEntityData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private String accountId;
+	private String description;
+	private long groupId;
+	private int id;
+	private String name;
+	public boolean isAccountIdNull()
+	{
+		return this.getAccountId() == null;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isGroupIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountId);
+		out.writeObject(this.description);
+		out.writeLong(this.groupId);
+		out.writeInt(this.id);
+		out.writeBoolean(_isIdSet);
+		out.writeObject(this.name);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public int zGetAccountIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountId);
+	}
+
+	public void setAccountId(String value)
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache(value, DbsTestEntityFinder.isFullCache());
+	}
+
+	public void setAccountIdNull()
+	{
+		this.setAccountId(null);
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, DbsTestEntityFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public long getGroupId()
+	{
+		return this.groupId;
+	}
+
+	public void setGroupId(long value)
+	{
+		this.groupId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+		_isIdSet = true;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, DbsTestEntityFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public void setGroupIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	public boolean _isIdSet;
+	public boolean zGetIsIdSet()
+	{
+		return _isIdSet;
+	}
+
+	protected void copyInto(DbsTestEntityData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.accountId = this.accountId;
+		copy.description = this.description;
+		copy.groupId = this.groupId;
+		copy.id = this.id;
+		copy.name = this.name;
+		copy._isIdSet = this._isIdSet;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DbsTestEntityFinder.isFullCache());
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DbsTestEntityFinder.isFullCache());
+		this.groupId = in.readLong();
+		this.id = in.readInt();
+		_isIdSet = in.readBoolean();
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DbsTestEntityFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final DbsTestEntityData otherData = (DbsTestEntityData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final DbsTestEntityData dbsTestEntityData = (DbsTestEntityData) newData;
+		this.setAccountId(dbsTestEntityData.getAccountId());
+		this.setDescription(dbsTestEntityData.getDescription());
+		this.setGroupId(dbsTestEntityData.getGroupId());
+		if (dbsTestEntityData.isGroupIdNull()) this.setGroupIdNull();
+		this.setName(dbsTestEntityData.getName());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final DbsTestEntityData other = (DbsTestEntityData) newData;
+		if (!isAccountIdNull() ? !getAccountId().equals(other.getAccountId()) : !other.isAccountIdNull())
+		{
+			return true;
+		}
+
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if ( isGroupIdNull() != other.isGroupIdNull() || getGroupId() != other.getGroupId())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		DbsTestEntityData copy = new DbsTestEntityData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		DbsTestEntityData copy = new DbsTestEntityData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.DbsTestEntityData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return DbsTestEntityFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return DbsTestEntityFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.DbsTestEntityData";
+	}
+}
@@ -0,0 +1,542 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class DifferentDataTypesDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "BOOLEAN_COLUMN,BYTE_COLUMN,FLOAT_COLUMN,SHORT_COLUMN,LONG_COLUMN,DOUBLE_COLUMN,CHAR_COLUMN,INT_COLUMN";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.BOOLEAN_COLUMN,t0.BYTE_COLUMN,t0.FLOAT_COLUMN,t0.SHORT_COLUMN,t0.LONG_COLUMN,t0.DOUBLE_COLUMN,t0.CHAR_COLUMN,t0.INT_COLUMN";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected DifferentDataTypesDatabaseObjectAbstract()
+	{
+		super("DifferentDataTypes", "com.gs.fw.common.mithra.test.domain.DifferentDataTypesFinder",
+			9, 9,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DifferentDataTypesFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return DifferentDataTypesFinder.getFinderInstance();
+	}
+
+	public static DifferentDataTypesData allocateOnHeapData()
+	{
+		return new DifferentDataTypesData();
+	}
+
+	public static DifferentDataTypesData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new DifferentDataTypesData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		DifferentDataTypesData data = new DifferentDataTypesData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(DifferentDataTypesFinder.getPrimaryKeyAttributes(), this, DifferentDataTypesFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(DifferentDataTypesFinder.getPrimaryKeyAttributes(), this, DifferentDataTypesFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(DifferentDataTypesFinder.getPrimaryKeyAttributes(), this, DifferentDataTypesFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(DifferentDataTypesFinder.getPrimaryKeyAttributes(), this, DifferentDataTypesFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			DifferentDataTypesFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			DifferentDataTypesFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			DifferentDataTypes.zConfigFullTx();
+		}
+		else
+		{
+			DifferentDataTypes.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateDifferentDataTypesData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkDifferentDataTypesData(1, (DifferentDataTypesData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateDifferentDataTypesPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getDifferentDataTypesTableName();
+	}
+
+	public String getDifferentDataTypesTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.BOOLEAN_COLUMN,t0.BYTE_COLUMN,t0.FLOAT_COLUMN,t0.SHORT_COLUMN,t0.LONG_COLUMN,t0.DOUBLE_COLUMN,t0.CHAR_COLUMN,t0.INT_COLUMN";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*9);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("BOOLEAN_COLUMN");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_COLUMN");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_COLUMN");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_COLUMN");
+		result.append(",").append(databaseAlias).append(".").append("LONG_COLUMN");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_COLUMN");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_COLUMN");
+		result.append(",").append(databaseAlias).append(".").append("INT_COLUMN");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public DifferentDataTypesData inflateDifferentDataTypesData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		DifferentDataTypesData data = inflateDifferentDataTypesPkData(rs, dt);
+		inflateNonPkDifferentDataTypesData(2, data, rs, dt);
+		return data;
+	}
+
+	public DifferentDataTypesData inflateDifferentDataTypesPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		DifferentDataTypesData _data = new DifferentDataTypesData();
+		int _pos = 1;
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkDifferentDataTypesData(int _pos, DifferentDataTypesData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			DifferentDataTypesData _data = _datax;
+			_data.setBooleanColumn(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBooleanColumnNull();
+			}
+
+			_data.setByteColumn(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setByteColumnNull();
+			}
+
+			_data.setFloatColumn(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFloatColumnNull();
+			}
+
+			_data.setShortColumn(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setShortColumnNull();
+			}
+
+			_data.setLongColumn(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setLongColumnNull();
+			}
+
+			_data.setDoubleColumn(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDoubleColumnNull();
+			}
+
+			String charColumnCharValue = _rs.getString(_pos++);
+			boolean charColumnCharValueisNull = charColumnCharValue == null || charColumnCharValue.length() < 1;
+			if(!charColumnCharValueisNull)
+			{
+				if(charColumnCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(charColumnCharValue.length() == 1)
+				{
+					_data.setCharColumn(charColumnCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setCharColumnNull();
+			}
+
+			_data.setIntColumn(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setIntColumnNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "DIFFERENT_DATA_TYPES";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+		if (data.isBooleanColumnNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isBooleanColumn());
+		}
+
+		if (data.isByteColumnNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getByteColumn());
+		}
+
+		if (data.isFloatColumnNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getFloatColumn());
+		}
+
+		if (data.isShortColumnNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getShortColumn());
+		}
+
+		if (data.isLongColumnNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getLongColumn());
+		}
+
+		if (data.isDoubleColumnNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getDoubleColumn());
+		}
+
+		if (data.isCharColumnNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getCharColumn()));
+		}
+
+		if (data.isIntColumnNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getIntColumn());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ID,BOOLEAN_COLUMN,BYTE_COLUMN,FLOAT_COLUMN,SHORT_COLUMN,LONG_COLUMN,DOUBLE_COLUMN,CHAR_COLUMN,INT_COLUMN";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		DifferentDataTypes newObject = new DifferentDataTypes();
+		newObject.zSetFromDifferentDataTypesData((DifferentDataTypesData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*9);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ID");
+		return result.toString();
+	}
+}
@@ -0,0 +1,1382 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DifferentDataTypesFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/DifferentDataTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.DifferentDataTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DifferentDataTypes");
+	private static final DifferentDataTypesSingleFinder<DifferentDataTypes, Object, DifferentDataTypes> finder = new DifferentDataTypesSingleFinder<DifferentDataTypes, Object, DifferentDataTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byId = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(DifferentDataTypesFinder.DifferentDataTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("booleanColumn");
+		finderMethodMap.addNormalAttributeName("byteColumn");
+		finderMethodMap.addNormalAttributeName("floatColumn");
+		finderMethodMap.addNormalAttributeName("shortColumn");
+		finderMethodMap.addNormalAttributeName("longColumn");
+		finderMethodMap.addNormalAttributeName("doubleColumn");
+		finderMethodMap.addNormalAttributeName("charColumn");
+		finderMethodMap.addNormalAttributeName("intColumn");
+		finderMethodMap.addRelationshipName("mappedName");
+		finderMethodMap.addRelationshipName("variousByIntColumn");
+		finderMethodMap.addRelationshipName("variousById");
+		finderMethodMap.addRelationshipName("variousByBooleanColumn");
+		finderMethodMap.addRelationshipName("variousByByteColumn");
+		finderMethodMap.addRelationshipName("variousByFloatColumn");
+		finderMethodMap.addRelationshipName("variousByShortColumn");
+		finderMethodMap.addRelationshipName("variousByLongColumn");
+		finderMethodMap.addRelationshipName("variousByDoubleColumn");
+		finderMethodMap.addRelationshipName("variousByCharColumn");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static DifferentDataTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static DifferentDataTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static DifferentDataTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (DifferentDataTypesList) finder.findMany(operation);
+	}
+
+	public static DifferentDataTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (DifferentDataTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static DifferentDataTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (DifferentDataTypes) FinderUtils.findOne(found);
+	}
+
+	public static DifferentDataTypes findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DifferentDataTypesData _castedTargetData = (DifferentDataTypesData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static DifferentDataTypes findById(int id)
+	{
+		return finder.findById(id);
+	}
+
+	private static final RelationshipHashStrategy forId = new IdRhs();
+	private static final class IdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DifferentDataTypesData _castedTargetData = (DifferentDataTypesData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static DifferentDataTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (DifferentDataTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class DifferentDataTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<DifferentDataTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private BooleanAttribute<ParentOwnerType> booleanColumn;
+		private ByteAttribute<ParentOwnerType> byteColumn;
+		private FloatAttribute<ParentOwnerType> floatColumn;
+		private ShortAttribute<ParentOwnerType> shortColumn;
+		private LongAttribute<ParentOwnerType> longColumn;
+		private DoubleAttribute<ParentOwnerType> doubleColumn;
+		private CharAttribute<ParentOwnerType> charColumn;
+		private IntegerAttribute<ParentOwnerType> intColumn;
+		private DifferentDataTypesMappedNameFinderSubclass<ParentOwnerType> mappedName;
+		private DifferentDataTypesVariousByIntColumnFinderSubclass<ParentOwnerType> variousByIntColumn;
+		private DifferentDataTypesVariousByIdFinderSubclass<ParentOwnerType> variousById;
+		private DifferentDataTypesVariousByBooleanColumnFinderSubclass<ParentOwnerType> variousByBooleanColumn;
+		private DifferentDataTypesVariousByByteColumnFinderSubclass<ParentOwnerType> variousByByteColumn;
+		private DifferentDataTypesVariousByFloatColumnFinderSubclass<ParentOwnerType> variousByFloatColumn;
+		private DifferentDataTypesVariousByShortColumnFinderSubclass<ParentOwnerType> variousByShortColumn;
+		private DifferentDataTypesVariousByLongColumnFinderSubclass<ParentOwnerType> variousByLongColumn;
+		private DifferentDataTypesVariousByDoubleColumnFinderSubclass<ParentOwnerType> variousByDoubleColumn;
+		private DifferentDataTypesVariousByCharColumnFinderSubclass<ParentOwnerType> variousByCharColumn;
+		public DifferentDataTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public DifferentDataTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DifferentDataTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return DifferentDataTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return DifferentDataTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return DifferentDataTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[9];
+			attributes[0] = this.id();
+			attributes[1] = this.booleanColumn();
+			attributes[2] = this.byteColumn();
+			attributes[3] = this.floatColumn();
+			attributes[4] = this.shortColumn();
+			attributes[5] = this.longColumn();
+			attributes[6] = this.doubleColumn();
+			attributes[7] = this.charColumn();
+			attributes[8] = this.intColumn();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(10);
+				relatedFinders.add(this.mappedName());
+				relatedFinders.add(this.variousByIntColumn());
+				relatedFinders.add(this.variousById());
+				relatedFinders.add(this.variousByBooleanColumn());
+				relatedFinders.add(this.variousByByteColumn());
+				relatedFinders.add(this.variousByFloatColumn());
+				relatedFinders.add(this.variousByShortColumn());
+				relatedFinders.add(this.variousByLongColumn());
+				relatedFinders.add(this.variousByDoubleColumn());
+				relatedFinders.add(this.variousByCharColumn());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public DifferentDataTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return DifferentDataTypesFinder.findOne(operation, false);
+		}
+
+		public DifferentDataTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return DifferentDataTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends DifferentDataTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new DifferentDataTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends DifferentDataTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			DifferentDataTypesList result = (DifferentDataTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends DifferentDataTypes> constructEmptyList()
+		{
+			return new DifferentDataTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1656516659;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DifferentDataTypesFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanColumn()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOLEAN_COLUMN","","booleanColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(DifferentDataTypesFinder.booleanColumn(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("variousByBooleanColumn");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "VariousTypes", "datatypesByBooleanColumn");
+				this.booleanColumn = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteColumn()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_COLUMN","","byteColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(DifferentDataTypesFinder.byteColumn(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("variousByByteColumn");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "VariousTypes", "datatypesByByteColumn");
+				this.byteColumn = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatColumn()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_COLUMN","","floatColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(DifferentDataTypesFinder.floatColumn(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("variousByFloatColumn");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "VariousTypes", "datatypesByFloatColumn");
+				this.floatColumn = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortColumn()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_COLUMN","","shortColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(DifferentDataTypesFinder.shortColumn(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("variousByShortColumn");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "VariousTypes", "datatypesByShortColumn");
+				this.shortColumn = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longColumn()
+		{
+			LongAttribute<ParentOwnerType> result = this.longColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_COLUMN","","longColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(DifferentDataTypesFinder.longColumn(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("variousByLongColumn");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "VariousTypes", "datatypesByLongColumn");
+				this.longColumn = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleColumn()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_COLUMN","","doubleColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(DifferentDataTypesFinder.doubleColumn(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("variousByDoubleColumn");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "VariousTypes", "datatypesByDoubleColumn");
+				this.doubleColumn = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charColumn()
+		{
+			CharAttribute<ParentOwnerType> result = this.charColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_COLUMN","","charColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(DifferentDataTypesFinder.charColumn(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("variousByCharColumn");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "VariousTypes", "datatypesByCharColumn");
+				this.charColumn = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intColumn()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_COLUMN","","intColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DifferentDataTypesFinder.intColumn(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("variousByIntColumn");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "VariousTypes", "datatypesByIntColumn");
+				this.intColumn = result;
+			}
+
+			return result;
+		}
+
+		public MappedDifferentDataTypesFinder.MappedDifferentDataTypesSingleFinderForRelatedClasses<ParentOwnerType, MappedDifferentDataTypes, DifferentDataTypes> mappedName()
+		{
+			DifferentDataTypesMappedNameFinderSubclass<ParentOwnerType> result = this.mappedName;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(MappedDifferentDataTypesFinder.zGetMappedDifferentDataTypesDatatypesMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesMappedNameFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.mappedName = result;
+			}
+
+			return result;
+		}
+
+		public VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes> variousByIntColumn()
+		{
+			DifferentDataTypesVariousByIntColumnFinderSubclass<ParentOwnerType> result = this.variousByIntColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByIntColumnMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesVariousByIntColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.variousByIntColumn = result;
+			}
+
+			return result;
+		}
+
+		public VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes> variousById()
+		{
+			DifferentDataTypesVariousByIdFinderSubclass<ParentOwnerType> result = this.variousById;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByIdMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesVariousByIdFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.variousById = result;
+			}
+
+			return result;
+		}
+
+		public VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes> variousByBooleanColumn()
+		{
+			DifferentDataTypesVariousByBooleanColumnFinderSubclass<ParentOwnerType> result = this.variousByBooleanColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByBooleanColumnMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesVariousByBooleanColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.variousByBooleanColumn = result;
+			}
+
+			return result;
+		}
+
+		public VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes> variousByByteColumn()
+		{
+			DifferentDataTypesVariousByByteColumnFinderSubclass<ParentOwnerType> result = this.variousByByteColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByByteColumnMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesVariousByByteColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.variousByByteColumn = result;
+			}
+
+			return result;
+		}
+
+		public VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes> variousByFloatColumn()
+		{
+			DifferentDataTypesVariousByFloatColumnFinderSubclass<ParentOwnerType> result = this.variousByFloatColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByFloatColumnMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesVariousByFloatColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.variousByFloatColumn = result;
+			}
+
+			return result;
+		}
+
+		public VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes> variousByShortColumn()
+		{
+			DifferentDataTypesVariousByShortColumnFinderSubclass<ParentOwnerType> result = this.variousByShortColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByShortColumnMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesVariousByShortColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.variousByShortColumn = result;
+			}
+
+			return result;
+		}
+
+		public VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes> variousByLongColumn()
+		{
+			DifferentDataTypesVariousByLongColumnFinderSubclass<ParentOwnerType> result = this.variousByLongColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByLongColumnMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesVariousByLongColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.variousByLongColumn = result;
+			}
+
+			return result;
+		}
+
+		public VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes> variousByDoubleColumn()
+		{
+			DifferentDataTypesVariousByDoubleColumnFinderSubclass<ParentOwnerType> result = this.variousByDoubleColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByDoubleColumnMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesVariousByDoubleColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.variousByDoubleColumn = result;
+			}
+
+			return result;
+		}
+
+		public VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes> variousByCharColumn()
+		{
+			DifferentDataTypesVariousByCharColumnFinderSubclass<ParentOwnerType> result = this.variousByCharColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByCharColumnMapper());
+				newMapper.setToMany(false);
+				result = new DifferentDataTypesVariousByCharColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.variousByCharColumn = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return DifferentDataTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return DifferentDataTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class DifferentDataTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends DifferentDataTypesRelatedFinder<ParentOwnerType, ReturnType, DifferentDataTypesList, OwnerType>
+	{
+		public DifferentDataTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends DifferentDataTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DifferentDataTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class DifferentDataTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends DifferentDataTypesRelatedFinder<ParentOwnerType, ReturnType, DifferentDataTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public DifferentDataTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public DifferentDataTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(DifferentDataTypes other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public DifferentDataTypes findByPrimaryKey(int id)
+		{
+			DifferentDataTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (DifferentDataTypes) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public DifferentDataTypes findById(int id)
+		{
+			return this.findByPrimaryKey(id);
+		}
+	}
+
+	public static abstract class DifferentDataTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends DifferentDataTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DifferentDataTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to DIFFERENT_DATA_TYPES.ID **/
+	public static IntegerAttribute<DifferentDataTypes> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to DIFFERENT_DATA_TYPES.BOOLEAN_COLUMN **/
+	public static BooleanAttribute<DifferentDataTypes> booleanColumn()
+	{
+		return finder.booleanColumn();
+	}
+
+	/** maps to DIFFERENT_DATA_TYPES.BYTE_COLUMN **/
+	public static ByteAttribute<DifferentDataTypes> byteColumn()
+	{
+		return finder.byteColumn();
+	}
+
+	/** maps to DIFFERENT_DATA_TYPES.FLOAT_COLUMN **/
+	public static FloatAttribute<DifferentDataTypes> floatColumn()
+	{
+		return finder.floatColumn();
+	}
+
+	/** maps to DIFFERENT_DATA_TYPES.SHORT_COLUMN **/
+	public static ShortAttribute<DifferentDataTypes> shortColumn()
+	{
+		return finder.shortColumn();
+	}
+
+	/** maps to DIFFERENT_DATA_TYPES.LONG_COLUMN **/
+	public static LongAttribute<DifferentDataTypes> longColumn()
+	{
+		return finder.longColumn();
+	}
+
+	/** maps to DIFFERENT_DATA_TYPES.DOUBLE_COLUMN **/
+	public static DoubleAttribute<DifferentDataTypes> doubleColumn()
+	{
+		return finder.doubleColumn();
+	}
+
+	/** maps to DIFFERENT_DATA_TYPES.CHAR_COLUMN **/
+	public static CharAttribute<DifferentDataTypes> charColumn()
+	{
+		return finder.charColumn();
+	}
+
+	/** maps to DIFFERENT_DATA_TYPES.INT_COLUMN **/
+	public static IntegerAttribute<DifferentDataTypes> intColumn()
+	{
+		return finder.intColumn();
+	}
+
+	public static MappedDifferentDataTypesFinder.MappedDifferentDataTypesSingleFinderForRelatedClasses<DifferentDataTypes, MappedDifferentDataTypes, DifferentDataTypes> mappedName()
+	{
+		return finder.mappedName();
+	}
+
+	public static class DifferentDataTypesMappedNameFinderSubclass<ParentOwnerType> extends MappedDifferentDataTypesFinder.MappedDifferentDataTypesSingleFinderForRelatedClasses<ParentOwnerType, MappedDifferentDataTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesMappedNameFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "mappedName";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesMappedNameFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected MappedDifferentDataTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getMappedName();
+		}
+
+		protected MappedDifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getMappedNames();
+		}
+	}
+
+	public static VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<DifferentDataTypes, VariousTypes, DifferentDataTypes> variousByIntColumn()
+	{
+		return finder.variousByIntColumn();
+	}
+
+	public static class DifferentDataTypesVariousByIntColumnFinderSubclass<ParentOwnerType> extends VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesVariousByIntColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "variousByIntColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesVariousByIntColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected VariousTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getVariousByIntColumn();
+		}
+
+		protected VariousTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getVariousByIntColumns();
+		}
+	}
+
+	public static VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<DifferentDataTypes, VariousTypes, DifferentDataTypes> variousById()
+	{
+		return finder.variousById();
+	}
+
+	public static class DifferentDataTypesVariousByIdFinderSubclass<ParentOwnerType> extends VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesVariousByIdFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "variousById";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesVariousByIdFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected VariousTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getVariousById();
+		}
+
+		protected VariousTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getVariousByIds();
+		}
+	}
+
+	public static VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<DifferentDataTypes, VariousTypes, DifferentDataTypes> variousByBooleanColumn()
+	{
+		return finder.variousByBooleanColumn();
+	}
+
+	public static class DifferentDataTypesVariousByBooleanColumnFinderSubclass<ParentOwnerType> extends VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesVariousByBooleanColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "variousByBooleanColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesVariousByBooleanColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected VariousTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getVariousByBooleanColumn();
+		}
+
+		protected VariousTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getVariousByBooleanColumns();
+		}
+	}
+
+	public static VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<DifferentDataTypes, VariousTypes, DifferentDataTypes> variousByByteColumn()
+	{
+		return finder.variousByByteColumn();
+	}
+
+	public static class DifferentDataTypesVariousByByteColumnFinderSubclass<ParentOwnerType> extends VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesVariousByByteColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "variousByByteColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesVariousByByteColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected VariousTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getVariousByByteColumn();
+		}
+
+		protected VariousTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getVariousByByteColumns();
+		}
+	}
+
+	public static VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<DifferentDataTypes, VariousTypes, DifferentDataTypes> variousByFloatColumn()
+	{
+		return finder.variousByFloatColumn();
+	}
+
+	public static class DifferentDataTypesVariousByFloatColumnFinderSubclass<ParentOwnerType> extends VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesVariousByFloatColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "variousByFloatColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesVariousByFloatColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected VariousTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getVariousByFloatColumn();
+		}
+
+		protected VariousTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getVariousByFloatColumns();
+		}
+	}
+
+	public static VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<DifferentDataTypes, VariousTypes, DifferentDataTypes> variousByShortColumn()
+	{
+		return finder.variousByShortColumn();
+	}
+
+	public static class DifferentDataTypesVariousByShortColumnFinderSubclass<ParentOwnerType> extends VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesVariousByShortColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "variousByShortColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesVariousByShortColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected VariousTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getVariousByShortColumn();
+		}
+
+		protected VariousTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getVariousByShortColumns();
+		}
+	}
+
+	public static VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<DifferentDataTypes, VariousTypes, DifferentDataTypes> variousByLongColumn()
+	{
+		return finder.variousByLongColumn();
+	}
+
+	public static class DifferentDataTypesVariousByLongColumnFinderSubclass<ParentOwnerType> extends VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesVariousByLongColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "variousByLongColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesVariousByLongColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected VariousTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getVariousByLongColumn();
+		}
+
+		protected VariousTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getVariousByLongColumns();
+		}
+	}
+
+	public static VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<DifferentDataTypes, VariousTypes, DifferentDataTypes> variousByDoubleColumn()
+	{
+		return finder.variousByDoubleColumn();
+	}
+
+	public static class DifferentDataTypesVariousByDoubleColumnFinderSubclass<ParentOwnerType> extends VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesVariousByDoubleColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "variousByDoubleColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesVariousByDoubleColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected VariousTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getVariousByDoubleColumn();
+		}
+
+		protected VariousTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getVariousByDoubleColumns();
+		}
+	}
+
+	public static VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<DifferentDataTypes, VariousTypes, DifferentDataTypes> variousByCharColumn()
+	{
+		return finder.variousByCharColumn();
+	}
+
+	public static class DifferentDataTypesVariousByCharColumnFinderSubclass<ParentOwnerType> extends VariousTypesFinder.VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, VariousTypes, DifferentDataTypes>
+	{
+		public DifferentDataTypesVariousByCharColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "variousByCharColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DifferentDataTypesVariousByCharColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected VariousTypes plainValueOf(DifferentDataTypes _obj)
+		{
+			return _obj.getVariousByCharColumn();
+		}
+
+		protected VariousTypesList plainListValueOf(Object _obj)
+		{
+			return ((DifferentDataTypesList)_obj).getVariousByCharColumns();
+		}
+	}
+
+	public static Operation eq(DifferentDataTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static DifferentDataTypesSingleFinder<DifferentDataTypes, Object, DifferentDataTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_byId = cache.addUniqueIndex("byId", new Attribute[] 
+		{
+			id()
+		}
+
+		);
+		cache.addIndex("byBooleanColumn", new Attribute[] 
+		{
+			booleanColumn()
+		}
+
+		);
+		cache.addIndex("byByteColumn", new Attribute[] 
+		{
+			byteColumn()
+		}
+
+		);
+		cache.addIndex("byFloatColumn", new Attribute[] 
+		{
+			floatColumn()
+		}
+
+		);
+		cache.addIndex("byShortColumn", new Attribute[] 
+		{
+			shortColumn()
+		}
+
+		);
+		cache.addIndex("byLongColumn", new Attribute[] 
+		{
+			longColumn()
+		}
+
+		);
+		cache.addIndex("byDoubleColumn", new Attribute[] 
+		{
+			doubleColumn()
+		}
+
+		);
+		cache.addIndex("byCharColumn", new Attribute[] 
+		{
+			charColumn()
+		}
+
+		);
+		cache.addIndex("8 Index", new Attribute[] 
+		{
+			intColumn()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyIdRef() 
+	{
+		return INDEX_byId; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			MappedDifferentDataTypesFinder.getFinderInstance(),VariousTypesFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			MappedDifferentDataTypesFinder.getFinderInstance(),VariousTypesFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = doubleColumn();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DifferentDataTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
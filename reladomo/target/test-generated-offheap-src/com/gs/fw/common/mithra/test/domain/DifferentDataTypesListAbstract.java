@@ -0,0 +1,320 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DifferentDataTypesListAbstract extends DelegatingList<DifferentDataTypes> implements MithraTransactionalList<DifferentDataTypes>
+{
+	public DifferentDataTypesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DifferentDataTypesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DifferentDataTypesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DifferentDataTypesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DifferentDataTypes[] elements()
+	{
+		DifferentDataTypes[] result = new DifferentDataTypes[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DifferentDataTypesList intersection(DifferentDataTypesList another)
+	{
+		return (DifferentDataTypesList)super.intersection(another);
+	}
+
+	public DifferentDataTypes getDifferentDataTypesAt(int index)
+	{
+		return (DifferentDataTypes)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	MappedDifferentDataTypes.id = this.id</pre>
+	* @see MappedDifferentDataTypes#getDatatypes() reverse relationship MappedDifferentDataTypes.getDatatypes()
+	* @return The mapped name
+	*/
+	public MappedDifferentDataTypesList getMappedNames()
+	{
+		return (MappedDifferentDataTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.mappedName());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.intColumn = this.intColumn</pre>
+	* @see VariousTypes#getDatatypesByIntColumn() reverse relationship VariousTypes.getDatatypesByIntColumn()
+	* @return The various by int column
+	*/
+	public VariousTypesList getVariousByIntColumns()
+	{
+		return (VariousTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.variousByIntColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.id = this.id</pre>
+	* @see VariousTypes#getDatatypesById() reverse relationship VariousTypes.getDatatypesById()
+	* @return The various by id
+	*/
+	public VariousTypesList getVariousByIds()
+	{
+		return (VariousTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.variousById());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.booleanColumn = this.booleanColumn</pre>
+	* @see VariousTypes#getDatatypesByBooleanColumn() reverse relationship VariousTypes.getDatatypesByBooleanColumn()
+	* @return The various by boolean column
+	*/
+	public VariousTypesList getVariousByBooleanColumns()
+	{
+		return (VariousTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.variousByBooleanColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.byteColumn = this.byteColumn</pre>
+	* @see VariousTypes#getDatatypesByByteColumn() reverse relationship VariousTypes.getDatatypesByByteColumn()
+	* @return The various by byte column
+	*/
+	public VariousTypesList getVariousByByteColumns()
+	{
+		return (VariousTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.variousByByteColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.floatColumn = this.floatColumn</pre>
+	* @see VariousTypes#getDatatypesByFloatColumn() reverse relationship VariousTypes.getDatatypesByFloatColumn()
+	* @return The various by float column
+	*/
+	public VariousTypesList getVariousByFloatColumns()
+	{
+		return (VariousTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.variousByFloatColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.shortColumn = this.shortColumn</pre>
+	* @see VariousTypes#getDatatypesByShortColumn() reverse relationship VariousTypes.getDatatypesByShortColumn()
+	* @return The various by short column
+	*/
+	public VariousTypesList getVariousByShortColumns()
+	{
+		return (VariousTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.variousByShortColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.longColumn = this.longColumn</pre>
+	* @see VariousTypes#getDatatypesByLongColumn() reverse relationship VariousTypes.getDatatypesByLongColumn()
+	* @return The various by long column
+	*/
+	public VariousTypesList getVariousByLongColumns()
+	{
+		return (VariousTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.variousByLongColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.doubleColumn = this.doubleColumn</pre>
+	* @see VariousTypes#getDatatypesByDoubleColumn() reverse relationship VariousTypes.getDatatypesByDoubleColumn()
+	* @return The various by double column
+	*/
+	public VariousTypesList getVariousByDoubleColumns()
+	{
+		return (VariousTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.variousByDoubleColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.charColumn = this.charColumn</pre>
+	* @see VariousTypes#getDatatypesByCharColumn() reverse relationship VariousTypes.getDatatypesByCharColumn()
+	* @return The various by char column
+	*/
+	public VariousTypesList getVariousByCharColumns()
+	{
+		return (VariousTypesList) this.zGetDelegated().resolveRelationship(this, DifferentDataTypesFinder.variousByCharColumn());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DifferentDataTypesFinder.getMithraObjectPortal();
+	}
+
+	public DifferentDataTypesList getNonPersistentCopy()
+	{
+		DifferentDataTypesList result = new DifferentDataTypesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DifferentDataTypesList asAdhoc()
+	{
+		return (DifferentDataTypesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<DifferentDataTypes> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public DifferentDataTypesList merge(MithraTransactionalList<DifferentDataTypes> incoming, TopLevelMergeOptions<DifferentDataTypes> mergeOptions)
+	{
+		return (DifferentDataTypesList) super.merge(incoming, mergeOptions);
+	}
+
+	public DifferentDataTypesList getDetachedCopy()
+	{
+		DifferentDataTypesList result = new DifferentDataTypesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(DifferentDataTypesFinder.id(), newValue);
+	}
+
+	public void setBooleanColumn(boolean newValue)
+	{
+		zSetBoolean(DifferentDataTypesFinder.booleanColumn(), newValue);
+	}
+
+	public void setByteColumn(byte newValue)
+	{
+		zSetByte(DifferentDataTypesFinder.byteColumn(), newValue);
+	}
+
+	public void setFloatColumn(float newValue)
+	{
+		zSetFloat(DifferentDataTypesFinder.floatColumn(), newValue);
+	}
+
+	public void setShortColumn(short newValue)
+	{
+		zSetShort(DifferentDataTypesFinder.shortColumn(), newValue);
+	}
+
+	public void setLongColumn(long newValue)
+	{
+		zSetLong(DifferentDataTypesFinder.longColumn(), newValue);
+	}
+
+	public void setDoubleColumn(double newValue)
+	{
+		zSetDouble(DifferentDataTypesFinder.doubleColumn(), newValue);
+	}
+
+	public void setCharColumn(char newValue)
+	{
+		zSetChar(DifferentDataTypesFinder.charColumn(), newValue);
+	}
+
+	public void setIntColumn(int newValue)
+	{
+		zSetInteger(DifferentDataTypesFinder.intColumn(), newValue);
+	}
+
+	public void setBooleanColumnNull()
+	{
+		zSetAttributeNull(DifferentDataTypesFinder.booleanColumn());
+	}
+
+	public void setByteColumnNull()
+	{
+		zSetAttributeNull(DifferentDataTypesFinder.byteColumn());
+	}
+
+	public void setFloatColumnNull()
+	{
+		zSetAttributeNull(DifferentDataTypesFinder.floatColumn());
+	}
+
+	public void setShortColumnNull()
+	{
+		zSetAttributeNull(DifferentDataTypesFinder.shortColumn());
+	}
+
+	public void setLongColumnNull()
+	{
+		zSetAttributeNull(DifferentDataTypesFinder.longColumn());
+	}
+
+	public void setDoubleColumnNull()
+	{
+		zSetAttributeNull(DifferentDataTypesFinder.doubleColumn());
+	}
+
+	public void setCharColumnNull()
+	{
+		zSetAttributeNull(DifferentDataTypesFinder.charColumn());
+	}
+
+	public void setIntColumnNull()
+	{
+		zSetAttributeNull(DifferentDataTypesFinder.intColumn());
+	}
+}
@@ -0,0 +1,492 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DirectRefOrderItemData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private double discountPrice;
+	private int id;
+	private int orderId;
+	private double originalPrice;
+	private int productId;
+	private double quantity;
+	private String state;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStateNull()
+	{
+		return this.getState() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isQuantityNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeDouble(this.discountPrice);
+		out.writeInt(this.id);
+		out.writeInt(this.orderId);
+		out.writeDouble(this.originalPrice);
+		out.writeInt(this.productId);
+		out.writeDouble(this.quantity);
+		out.writeObject(this.state);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	private Object __productInfo;
+	private Object __orderItemStatus;
+	private Object __nullTestOrder;
+	private Object __order;
+	public double getDiscountPrice()
+	{
+		return this.discountPrice;
+	}
+
+	public void setDiscountPrice(double value)
+	{
+		this.discountPrice = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.orderId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public double getOriginalPrice()
+	{
+		return this.originalPrice;
+	}
+
+	public void setOriginalPrice(double value)
+	{
+		this.originalPrice = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public double getQuantity()
+	{
+		return this.quantity;
+	}
+
+	public void setQuantity(double value)
+	{
+		this.quantity = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public String getState()
+	{
+		return this.state;
+	}
+
+	public int zGetStateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+	}
+
+	public void setState(String value)
+	{
+		this.state = StringPool.getInstance().getOrAddToCache(value, DirectRefOrderItemFinder.isFullCache());
+	}
+
+	public void setStateNull()
+	{
+		this.setState(null);
+	}
+
+	public void setOrderIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setProductIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setQuantityNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(DirectRefOrderItemData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.discountPrice = this.discountPrice;
+		copy.id = this.id;
+		copy.orderId = this.orderId;
+		copy.originalPrice = this.originalPrice;
+		copy.productId = this.productId;
+		copy.quantity = this.quantity;
+		copy.state = this.state;
+		if (withRelationships)
+		{
+			copy.__productInfo = this.__productInfo;
+			copy.__orderItemStatus = this.__orderItemStatus;
+			copy.__nullTestOrder = this.__nullTestOrder;
+			copy.__order = this.__order;
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.discountPrice = in.readDouble();
+		this.id = in.readInt();
+		this.orderId = in.readInt();
+		this.originalPrice = in.readDouble();
+		this.productId = in.readInt();
+		this.quantity = in.readDouble();
+		this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DirectRefOrderItemFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final DirectRefOrderItemData otherData = (DirectRefOrderItemData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+		__productInfo = null;
+		__orderItemStatus = null;
+		__nullTestOrder = null;
+		__order = null;
+	}
+
+	public Object getProductInfo()
+	{
+		return __productInfo;
+	}
+
+	public void setProductInfo(Object related)
+	{
+		__productInfo = related;
+	}
+
+	public Object getOrderItemStatus()
+	{
+		return __orderItemStatus;
+	}
+
+	public void setOrderItemStatus(Object related)
+	{
+		__orderItemStatus = related;
+	}
+
+	public Object getNullTestOrder()
+	{
+		return __nullTestOrder;
+	}
+
+	public void setNullTestOrder(Object related)
+	{
+		__nullTestOrder = related;
+	}
+
+	public Object getOrder()
+	{
+		return __order;
+	}
+
+	public void setOrder(Object related)
+	{
+		__order = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final DirectRefOrderItemData directRefOrderItemData = (DirectRefOrderItemData) newData;
+		this.setDiscountPrice(directRefOrderItemData.getDiscountPrice());
+		if (directRefOrderItemData.isDiscountPriceNull()) this.setDiscountPriceNull();
+		this.setOrderId(directRefOrderItemData.getOrderId());
+		if (directRefOrderItemData.isOrderIdNull()) this.setOrderIdNull();
+		this.setOriginalPrice(directRefOrderItemData.getOriginalPrice());
+		if (directRefOrderItemData.isOriginalPriceNull()) this.setOriginalPriceNull();
+		this.setProductId(directRefOrderItemData.getProductId());
+		if (directRefOrderItemData.isProductIdNull()) this.setProductIdNull();
+		this.setQuantity(directRefOrderItemData.getQuantity());
+		if (directRefOrderItemData.isQuantityNull()) this.setQuantityNull();
+		this.setState(directRefOrderItemData.getState());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final DirectRefOrderItemData other = (DirectRefOrderItemData) newData;
+		if ( isDiscountPriceNull() != other.isDiscountPriceNull() || Math.abs(getDiscountPrice() - other.getDiscountPrice()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isOrderIdNull() != other.isOrderIdNull() || getOrderId() != other.getOrderId())
+		{
+			return true;
+		}
+
+		if ( isOriginalPriceNull() != other.isOriginalPriceNull() || Math.abs(getOriginalPrice() - other.getOriginalPrice()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isProductIdNull() != other.isProductIdNull() || getProductId() != other.getProductId())
+		{
+			return true;
+		}
+
+		if ( isQuantityNull() != other.isQuantityNull() || Math.abs(getQuantity() - other.getQuantity()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		DirectRefOrderItemData copy = new DirectRefOrderItemData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		DirectRefOrderItemData copy = new DirectRefOrderItemData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.DirectRefOrderItemData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return DirectRefOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return DirectRefOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.DirectRefOrderItemData";
+	}
+}
@@ -0,0 +1,1163 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DirectRefOrderItemFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/DirectRefOrderItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.DirectRefOrderItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DirectRefOrderItem");
+	private static final DirectRefOrderItemSingleFinder<DirectRefOrderItem, Object, DirectRefOrderItem> finder = new DirectRefOrderItemSingleFinder<DirectRefOrderItem, Object, DirectRefOrderItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(DirectRefOrderItemFinder.DirectRefOrderItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("originalPrice");
+		finderMethodMap.addNormalAttributeName("discountPrice");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addRelationshipName("productInfo");
+		finderMethodMap.addRelationshipName("orderItemStatus");
+		finderMethodMap.addRelationshipName("nullTestOrder");
+		finderMethodMap.addRelationshipName("order");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = DirectRefOrderItemFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			result[1] = ProductFinder.productId().constructEqualityMapper(DirectRefOrderItemFinder.productId());
+			result[2] = DirectRefOrderItemFinder.id().constructEqualityMapper(OrderItemStatusFinder.itemId());
+			result[3] = OrderItemStatusFinder.itemId().constructEqualityMapper(DirectRefOrderItemFinder.id());
+			result[4] = DirectRefOrderItemFinder.orderId().constructEqualityMapper(DirectRefOrderFinder.orderId());
+			result[5] = DirectRefOrderFinder.orderId().constructEqualityMapper(DirectRefOrderItemFinder.orderId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[3];
+			result[0] = DirectRefOrderItemFinder.quantity().eq(10.5);
+			result[1] = DirectRefOrderItemFinder.state().notEq("In-Progress");
+			result[2] = DirectRefOrderItemFinder.orderId().isNotNull();
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static DirectRefOrderItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static DirectRefOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static DirectRefOrderItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (DirectRefOrderItemList) finder.findMany(operation);
+	}
+
+	public static DirectRefOrderItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (DirectRefOrderItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static DirectRefOrderItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (DirectRefOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static DirectRefOrderItem findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DirectRefOrderItemData _castedTargetData = (DirectRefOrderItemData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static DirectRefOrderItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (DirectRefOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class DirectRefOrderItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<DirectRefOrderItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> originalPrice;
+		private DoubleAttribute<ParentOwnerType> discountPrice;
+		private StringAttribute<ParentOwnerType> state;
+		private DirectRefOrderItemProductInfoFinderSubclass<ParentOwnerType> productInfo;
+		private DirectRefOrderItemOrderItemStatusFinderSubclass<ParentOwnerType> orderItemStatus;
+		private DirectRefOrderItemNullTestOrderFinderSubclass<ParentOwnerType> nullTestOrder;
+		private DirectRefOrderItemOrderFinderSubclass<ParentOwnerType> order;
+		public DirectRefOrderItemRelatedFinder()
+		{
+			super();
+		}
+
+		public DirectRefOrderItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DirectRefOrderItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return DirectRefOrderItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return DirectRefOrderItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return DirectRefOrderItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.id();
+			attributes[1] = this.orderId();
+			attributes[2] = this.productId();
+			attributes[3] = this.quantity();
+			attributes[4] = this.originalPrice();
+			attributes[5] = this.discountPrice();
+			attributes[6] = this.state();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(4);
+				relatedFinders.add(this.productInfo());
+				relatedFinders.add(this.orderItemStatus());
+				relatedFinders.add(this.nullTestOrder());
+				relatedFinders.add(this.order());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.orderItemStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public DirectRefOrderItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return DirectRefOrderItemFinder.findOne(operation, false);
+		}
+
+		public DirectRefOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return DirectRefOrderItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends DirectRefOrderItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new DirectRefOrderItemList((Operation) operation);
+		}
+
+		public MithraList<? extends DirectRefOrderItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			DirectRefOrderItemList result = (DirectRefOrderItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends DirectRefOrderItem> constructEmptyList()
+		{
+			return new DirectRefOrderItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1546807644;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DirectRefOrderItemFinder.id(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("orderItemStatus");
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DirectRefOrderItemFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "DirectRefOrder", "items");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DirectRefOrderItemFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("productInfo");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(DirectRefOrderItemFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> originalPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.originalPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ORIGINAL_PRICE","","originalPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(DirectRefOrderItemFinder.originalPrice(), this.mapper, this.zGetValueSelector());
+				this.originalPrice = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> discountPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.discountPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DISCOUNT_PRICE","","discountPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(DirectRefOrderItemFinder.discountPrice(), this.mapper, this.zGetValueSelector());
+				this.discountPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(DirectRefOrderItemFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, DirectRefOrderItem> productInfo()
+		{
+			DirectRefOrderItemProductInfoFinderSubclass<ParentOwnerType> result = this.productInfo;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DirectRefOrderItemFinder.zGetDirectRefOrderItemProductInfoReverseMapper());
+				newMapper.setToMany(false);
+				result = new DirectRefOrderItemProductInfoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productInfo = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemStatusFinder.OrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderItemStatus, DirectRefOrderItem> orderItemStatus()
+		{
+			DirectRefOrderItemOrderItemStatusFinderSubclass<ParentOwnerType> result = this.orderItemStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DirectRefOrderItemFinder.zGetDirectRefOrderItemOrderItemStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new DirectRefOrderItemOrderItemStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderItemStatus = result;
+			}
+
+			return result;
+		}
+
+		public DirectRefOrderFinder.DirectRefOrderSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrder, DirectRefOrderItem> nullTestOrder()
+		{
+			DirectRefOrderItemNullTestOrderFinderSubclass<ParentOwnerType> result = this.nullTestOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DirectRefOrderItemFinder.zGetDirectRefOrderItemNullTestOrderReverseMapper());
+				newMapper.setToMany(false);
+				result = new DirectRefOrderItemNullTestOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.nullTestOrder = result;
+			}
+
+			return result;
+		}
+
+		public DirectRefOrderFinder.DirectRefOrderSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrder, DirectRefOrderItem> order()
+		{
+			DirectRefOrderItemOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderItemsMapper());
+				newMapper.setToMany(false);
+				result = new DirectRefOrderItemOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return DirectRefOrderItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return DirectRefOrderItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class DirectRefOrderItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends DirectRefOrderItemRelatedFinder<ParentOwnerType, ReturnType, DirectRefOrderItemList, OwnerType>
+	{
+		public DirectRefOrderItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends DirectRefOrderItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DirectRefOrderItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class DirectRefOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends DirectRefOrderItemRelatedFinder<ParentOwnerType, ReturnType, DirectRefOrderItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public DirectRefOrderItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public DirectRefOrderItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(DirectRefOrderItem other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public DirectRefOrderItem findByPrimaryKey(int id)
+		{
+			DirectRefOrderItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (DirectRefOrderItem) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class DirectRefOrderItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends DirectRefOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DirectRefOrderItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productInfoReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemProductInfoReverseMapper()
+	{
+		if (productInfoReverseMapper == null)
+		{
+			productInfoReverseMapper = zConstructDirectRefOrderItemProductInfoReverseMapper();
+		}
+
+		return productInfoReverseMapper;
+	}
+
+	private static Mapper productInfoMapper = null;
+	public static Mapper zGetDirectRefOrderItemProductInfoMapper()
+	{
+		if (productInfoMapper == null)
+		{
+			productInfoMapper = zConstructDirectRefOrderItemProductInfoMapper();
+		}
+
+		return productInfoMapper;
+	}
+
+	private static Mapper productInfoPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemProductInfoPureReverseMapper()
+	{
+		if (productInfoPureReverseMapper == null)
+		{
+			productInfoPureReverseMapper = zConstructDirectRefOrderItemProductInfoPureReverseMapper();
+		}
+
+		return productInfoPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemProductInfoPureReverseMapper()
+	{
+		Mapper productInfoMapper = DirectRefOrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemProductInfoReverseMapper()
+	{
+		Mapper productInfoMapper = DirectRefOrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemProductInfoMapper()
+	{
+		Mapper productInfoMapper = DirectRefOrderItemFinder.zGetConstantJoin(1);
+		productInfoMapper.setName("productInfo_Reverse");
+		return productInfoMapper;
+	}
+
+	private static Mapper orderItemStatusReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemOrderItemStatusReverseMapper()
+	{
+		if (orderItemStatusReverseMapper == null)
+		{
+			orderItemStatusReverseMapper = zConstructDirectRefOrderItemOrderItemStatusReverseMapper();
+		}
+
+		return orderItemStatusReverseMapper;
+	}
+
+	private static Mapper orderItemStatusMapper = null;
+	public static Mapper zGetDirectRefOrderItemOrderItemStatusMapper()
+	{
+		if (orderItemStatusMapper == null)
+		{
+			orderItemStatusMapper = zConstructDirectRefOrderItemOrderItemStatusMapper();
+		}
+
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper orderItemStatusPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemOrderItemStatusPureReverseMapper()
+	{
+		if (orderItemStatusPureReverseMapper == null)
+		{
+			orderItemStatusPureReverseMapper = zConstructDirectRefOrderItemOrderItemStatusPureReverseMapper();
+		}
+
+		return orderItemStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemOrderItemStatusPureReverseMapper()
+	{
+		Mapper orderItemStatusMapper = DirectRefOrderItemFinder.zGetConstantJoin(2);
+		orderItemStatusMapper.setName("orderItemStatus");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemOrderItemStatusReverseMapper()
+	{
+		Mapper orderItemStatusMapper = DirectRefOrderItemFinder.zGetConstantJoin(2);
+		orderItemStatusMapper.setName("orderItemStatus");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemOrderItemStatusMapper()
+	{
+		Mapper orderItemStatusMapper = DirectRefOrderItemFinder.zGetConstantJoin(3);
+		orderItemStatusMapper.setName("orderItemStatus_Reverse");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper nullTestOrderReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemNullTestOrderReverseMapper()
+	{
+		if (nullTestOrderReverseMapper == null)
+		{
+			nullTestOrderReverseMapper = zConstructDirectRefOrderItemNullTestOrderReverseMapper();
+		}
+
+		return nullTestOrderReverseMapper;
+	}
+
+	private static Mapper nullTestOrderMapper = null;
+	public static Mapper zGetDirectRefOrderItemNullTestOrderMapper()
+	{
+		if (nullTestOrderMapper == null)
+		{
+			nullTestOrderMapper = zConstructDirectRefOrderItemNullTestOrderMapper();
+		}
+
+		return nullTestOrderMapper;
+	}
+
+	private static Mapper nullTestOrderPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemNullTestOrderPureReverseMapper()
+	{
+		if (nullTestOrderPureReverseMapper == null)
+		{
+			nullTestOrderPureReverseMapper = zConstructDirectRefOrderItemNullTestOrderPureReverseMapper();
+		}
+
+		return nullTestOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemNullTestOrderPureReverseMapper()
+	{
+		Mapper nullTestOrderMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		nullTestOrderMapper.setName("nullTestOrder");
+		return nullTestOrderMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemNullTestOrderReverseMapper()
+	{
+		Mapper nullTestOrderMapperInnerMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		Mapper nullTestOrderMapper = new FilteredMapper(nullTestOrderMapperInnerMapper, DirectRefOrderItemFinder.zGetConstantOperation(2), null);
+		nullTestOrderMapper.setName("nullTestOrder");
+		return nullTestOrderMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemNullTestOrderMapper()
+	{
+		Mapper nullTestOrderMapperInnerMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		Mapper nullTestOrderMapper = new FilteredMapper(nullTestOrderMapperInnerMapper, null, DirectRefOrderItemFinder.zGetConstantOperation(2));
+		nullTestOrderMapper.setName("nullTestOrder_Reverse");
+		return nullTestOrderMapper;
+	}
+
+	/** maps to DIR_REF_ORDER_ITEM.ID **/
+	public static IntegerAttribute<DirectRefOrderItem> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to DIR_REF_ORDER_ITEM.ORDER_ID **/
+	public static IntegerAttribute<DirectRefOrderItem> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to DIR_REF_ORDER_ITEM.PRODUCT_ID **/
+	public static IntegerAttribute<DirectRefOrderItem> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to DIR_REF_ORDER_ITEM.QUANTITY **/
+	public static DoubleAttribute<DirectRefOrderItem> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to DIR_REF_ORDER_ITEM.ORIGINAL_PRICE **/
+	public static DoubleAttribute<DirectRefOrderItem> originalPrice()
+	{
+		return finder.originalPrice();
+	}
+
+	/** maps to DIR_REF_ORDER_ITEM.DISCOUNT_PRICE **/
+	public static DoubleAttribute<DirectRefOrderItem> discountPrice()
+	{
+		return finder.discountPrice();
+	}
+
+	/** maps to DIR_REF_ORDER_ITEM."STATE" **/
+	public static StringAttribute<DirectRefOrderItem> state()
+	{
+		return finder.state();
+	}
+
+	public static ProductFinder.ProductSingleFinderForRelatedClasses<DirectRefOrderItem, Product, DirectRefOrderItem> productInfo()
+	{
+		return finder.productInfo();
+	}
+
+	public static class DirectRefOrderItemProductInfoFinderSubclass<ParentOwnerType> extends ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, DirectRefOrderItem>
+	{
+		public DirectRefOrderItemProductInfoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productInfo";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderItemProductInfoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Product plainValueOf(DirectRefOrderItem _obj)
+		{
+			return _obj.getProductInfo();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderItemList)_obj).getProductInfos();
+		}
+	}
+
+	public static OrderItemStatusFinder.OrderItemStatusSingleFinderForRelatedClasses<DirectRefOrderItem, OrderItemStatus, DirectRefOrderItem> orderItemStatus()
+	{
+		return finder.orderItemStatus();
+	}
+
+	public static class DirectRefOrderItemOrderItemStatusFinderSubclass<ParentOwnerType> extends OrderItemStatusFinder.OrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderItemStatus, DirectRefOrderItem>
+	{
+		public DirectRefOrderItemOrderItemStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderItemStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderItemOrderItemStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((DirectRefOrderItem) _obj).isOrderItemStatusModifiedSinceDetachment();
+		}
+
+		protected OrderItemStatus plainValueOf(DirectRefOrderItem _obj)
+		{
+			return _obj.getOrderItemStatus();
+		}
+
+		protected OrderItemStatusList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderItemList)_obj).getOrderItemStatus();
+		}
+	}
+
+	public static DirectRefOrderFinder.DirectRefOrderSingleFinderForRelatedClasses<DirectRefOrderItem, DirectRefOrder, DirectRefOrderItem> nullTestOrder()
+	{
+		return finder.nullTestOrder();
+	}
+
+	public static class DirectRefOrderItemNullTestOrderFinderSubclass<ParentOwnerType> extends DirectRefOrderFinder.DirectRefOrderSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrder, DirectRefOrderItem>
+	{
+		public DirectRefOrderItemNullTestOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "nullTestOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderItemNullTestOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DirectRefOrder plainValueOf(DirectRefOrderItem _obj)
+		{
+			return _obj.getNullTestOrder();
+		}
+
+		protected DirectRefOrderList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderItemList)_obj).getNullTestOrders();
+		}
+	}
+
+	public static DirectRefOrderFinder.DirectRefOrderSingleFinderForRelatedClasses<DirectRefOrderItem, DirectRefOrder, DirectRefOrderItem> order()
+	{
+		return finder.order();
+	}
+
+	public static class DirectRefOrderItemOrderFinderSubclass<ParentOwnerType> extends DirectRefOrderFinder.DirectRefOrderSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrder, DirectRefOrderItem>
+	{
+		public DirectRefOrderItemOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderItemOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DirectRefOrder plainValueOf(DirectRefOrderItem _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected DirectRefOrderList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderItemList)_obj).getOrders();
+		}
+	}
+
+	public static Operation eq(DirectRefOrderItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static DirectRefOrderItemSingleFinder<DirectRefOrderItem, Object, DirectRefOrderItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			orderId()
+			, productId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			DirectRefOrderFinder.getFinderInstance(),OrderItemStatusFinder.getFinderInstance(),ProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			DirectRefOrderFinder.getFinderInstance(),OrderItemStatusFinder.getFinderInstance(),ProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[3];
+		result[0] = quantity();
+		result[1] = originalPrice();
+		result[2] = discountPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DirectRefOrderItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
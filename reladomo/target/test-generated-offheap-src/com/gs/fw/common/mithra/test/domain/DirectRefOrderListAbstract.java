@@ -0,0 +1,262 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DirectRefOrderListAbstract extends DelegatingList<DirectRefOrder> implements MithraTransactionalList<DirectRefOrder>
+{
+	public DirectRefOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DirectRefOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DirectRefOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DirectRefOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DirectRefOrder[] elements()
+	{
+		DirectRefOrder[] result = new DirectRefOrder[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DirectRefOrderList intersection(DirectRefOrderList another)
+	{
+		return (DirectRefOrderList)super.intersection(another);
+	}
+
+	public DirectRefOrder getDirectRefOrderAt(int index)
+	{
+		return (DirectRefOrder)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId</pre>
+	* @see DirectRefOrderItem#getOrder() reverse relationship DirectRefOrderItem.getOrder()
+	* @return items
+	*/
+	public DirectRefOrderItemList getItems()
+	{
+		return (DirectRefOrderItemList) this.zGetDelegated().resolveRelationship(this, DirectRefOrderFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderStatus.orderId = this.orderId</pre>
+	* @see DirectRefOrderStatus#getOrder() reverse relationship DirectRefOrderStatus.getOrder()
+	* @return The order status
+	*/
+	public DirectRefOrderStatusList getOrderStatus()
+	{
+		return (DirectRefOrderStatusList) this.zGetDelegated().resolveRelationship(this, DirectRefOrderFinder.orderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public DirectRefOrderItemList getItemForProducts(int productId)
+	{
+		return (DirectRefOrderItemList) this.zGetDelegated().resolveRelationship(this, DirectRefOrderFinder.itemForProduct(productId));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public DirectRefOrderItemList getItemForProductSets(IntHashSet productIds)
+	{
+		return (DirectRefOrderItemList) this.zGetDelegated().resolveRelationship(this, DirectRefOrderFinder.itemForProductSet(productIds));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public DirectRefOrderItemList getExpensiveItems(double price)
+	{
+		return (DirectRefOrderItemList) this.zGetDelegated().resolveRelationship(this, DirectRefOrderFinder.expensiveItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public DirectRefOrderItemList getCheapItems(double price)
+	{
+		return (DirectRefOrderItemList) this.zGetDelegated().resolveRelationship(this, DirectRefOrderFinder.cheapItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.originalPrice < {price} and this.userId = 1</pre>
+	* @return cheap items with check
+	*/
+	public DirectRefOrderItemList getCheapItemsWithCheck(double price)
+	{
+		return (DirectRefOrderItemList) this.zGetDelegated().resolveRelationship(this, DirectRefOrderFinder.cheapItemsWithCheck(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and this.userId = 5</pre>
+	* @return items for user five
+	*/
+	public DirectRefOrderItemList getItemsForUserFive()
+	{
+		return (DirectRefOrderItemList) this.zGetDelegated().resolveRelationship(this, DirectRefOrderFinder.itemsForUserFive());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = DirectRefOrderItem.orderId and
+	DirectRefOrderItem.quantity = 10.5 and
+	DirectRefOrderItem.state != "In-Progress" and
+	DirectRefOrderItem.productId = Product.productId</pre>
+	* @return products without in progress
+	*/
+	public ProductList getProductsWithoutInProgress()
+	{
+		return (ProductList) this.zGetDelegated().resolveRelationship(this, DirectRefOrderFinder.productsWithoutInProgress());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DirectRefOrderFinder.getMithraObjectPortal();
+	}
+
+	public DirectRefOrderList getNonPersistentCopy()
+	{
+		DirectRefOrderList result = new DirectRefOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DirectRefOrderList asAdhoc()
+	{
+		return (DirectRefOrderList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<DirectRefOrder> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public DirectRefOrderList merge(MithraTransactionalList<DirectRefOrder> incoming, TopLevelMergeOptions<DirectRefOrder> mergeOptions)
+	{
+		return (DirectRefOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public DirectRefOrderList getDetachedCopy()
+	{
+		DirectRefOrderList result = new DirectRefOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(DirectRefOrderFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(DirectRefOrderFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(DirectRefOrderFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(DirectRefOrderFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(DirectRefOrderFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(DirectRefOrderFinder.trackingId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(DirectRefOrderFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getItems()).cascadeDeleteAll();
+		((DelegatingList)this.getOrderStatus()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,429 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class DirectRefOrderStatusAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(DirectRefOrderStatus.class.getName());
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DirectRefOrderStatusData _castedSrcData = (DirectRefOrderStatusData) _srcData;
+			DirectRefOrderData _castedTargetData = (DirectRefOrderData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DirectRefOrderStatusData _castedSrcData = (DirectRefOrderStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public DirectRefOrderStatusAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public DirectRefOrderStatus getDetachedCopy() throws MithraBusinessException
+	{
+		return (DirectRefOrderStatus) super.getDetachedCopy();
+	}
+
+	public DirectRefOrderStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		DirectRefOrderStatus result = (DirectRefOrderStatus) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public DirectRefOrderStatus copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (DirectRefOrderStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public DirectRefOrderStatus zFindOriginal()
+	{
+		DirectRefOrderStatusData data = (DirectRefOrderStatusData) this.currentData;
+		Operation op;
+		op = DirectRefOrderStatusFinder.orderId().eq(data.getOrderId());
+		return DirectRefOrderStatusFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DirectRefOrderStatusData();
+	}
+
+	protected void zSetFromDirectRefOrderStatusData( DirectRefOrderStatusData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromDirectRefOrderStatusData( DirectRefOrderStatusData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return ((DirectRefOrderStatusData) this.zSynchronizedGetData()).isLastUpdateTimeNull();
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		DirectRefOrderStatusData data = (DirectRefOrderStatusData) this.zSynchronizedGetData();
+		return data.getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(DirectRefOrderStatusFinder.lastUpdateTime(), newValue, false, false );
+	}
+
+	public boolean isLastUserNull()
+	{
+		return ((DirectRefOrderStatusData) this.zSynchronizedGetData()).isLastUserNull();
+	}
+
+	public String getLastUser()
+	{
+		DirectRefOrderStatusData data = (DirectRefOrderStatusData) this.zSynchronizedGetData();
+		return data.getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		zSetString(DirectRefOrderStatusFinder.lastUser(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((DirectRefOrderStatusData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		DirectRefOrderStatusData data = (DirectRefOrderStatusData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(DirectRefOrderStatusFinder.orderId(), newValue, true, false ,false);
+	}
+
+	public boolean isStatusNull()
+	{
+		return ((DirectRefOrderStatusData) this.zSynchronizedGetData()).isStatusNull();
+	}
+
+	public int getStatus()
+	{
+		DirectRefOrderStatusData data = (DirectRefOrderStatusData) this.zSynchronizedGetData();
+		if (data.isStatusNull()) MithraNullPrimitiveException.throwNew("status", data);
+		return data.getStatus();
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(DirectRefOrderStatusFinder.status(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, DirectRefOrderStatusFinder.status(), false);
+	}
+
+	public void setStatusNull()
+	{
+		zNullify(DirectRefOrderStatusFinder.status(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DirectRefOrderStatusData _newData = (DirectRefOrderStatusData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		DirectRefOrderStatusData _newData = (DirectRefOrderStatusData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderStatusData _newData = (DirectRefOrderStatusData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = DirectRefOrder.orderId</pre>
+	* @see DirectRefOrder#getOrderStatus() reverse relationship DirectRefOrder.getOrderStatus()
+	* @return The order
+	*/
+	public DirectRefOrder getOrder()
+	{
+		DirectRefOrder _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderStatusData _data = (DirectRefOrderStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = DirectRefOrderFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = _data.getOrder();
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (DirectRefOrder) _portal.unwrapRelatedObject(_data, o, null, null);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (DirectRefOrder) _related;
+				if (_related == null)
+				{
+					_op = DirectRefOrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (DirectRefOrder) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = DirectRefOrderFinder.orderId().eq(_data.getOrderId());
+					_result = DirectRefOrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (DirectRefOrderStatusData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DirectRefOrder) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					_op = DirectRefOrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = DirectRefOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			_data.setOrder(_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setOrder(DirectRefOrder order)
+	{
+		((DirectRefOrder)order).setOrderStatus((DirectRefOrderStatus)this);
+	}
+
+	public void zSetParentContainerorder(DirectRefOrderAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderStatusData _data = (DirectRefOrderStatusData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public DirectRefOrderStatus zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderStatus original = (DirectRefOrderStatus) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return DirectRefOrderStatusFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DirectRefOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public DirectRefOrderStatus getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, DirectRefOrderStatusFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, DirectRefOrderStatusFinder.lastUser(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DirectRefOrderStatusFinder.status(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, DirectRefOrderStatusFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		DirectRefOrderStatusAbstract result = (DirectRefOrderStatusAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,361 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DirectRefOrderStatusData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private Timestamp lastUpdateTime;
+	private String lastUser;
+	private int orderId;
+	private int status;
+	public boolean isLastUpdateTimeNull()
+	{
+		return this.getLastUpdateTime() == null;
+	}
+
+	public boolean isLastUserNull()
+	{
+		return this.getLastUser() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStatusNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastUpdateTime);
+		out.writeObject(this.lastUser);
+		out.writeInt(this.orderId);
+		out.writeInt(this.status);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	private Object __order;
+	public Timestamp getLastUpdateTime()
+	{
+		return this.lastUpdateTime;
+	}
+
+	public long zGetLastUpdateTimeAsLong()
+	{
+		if (lastUpdateTime == null) return TimestampPool.OFF_HEAP_NULL;
+		return lastUpdateTime.getTime();
+	}
+
+	public void setLastUpdateTime(Timestamp value)
+	{
+		this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(value, DirectRefOrderStatusFinder.isFullCache(), DirectRefOrderStatusFinder.isOffHeap());
+	}
+
+	public void setLastUpdateTimeNull()
+	{
+		this.setLastUpdateTime(null);
+	}
+
+	public String getLastUser()
+	{
+		return this.lastUser;
+	}
+
+	public int zGetLastUserAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(lastUser);
+	}
+
+	public void setLastUser(String value)
+	{
+		this.lastUser = StringPool.getInstance().getOrAddToCache(value, DirectRefOrderStatusFinder.isFullCache());
+	}
+
+	public void setLastUserNull()
+	{
+		this.setLastUser(null);
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.orderId = value;
+	}
+
+	public void setOrderIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getStatus()
+	{
+		return this.status;
+	}
+
+	public void setStatus(int value)
+	{
+		this.status = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setStatusNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(DirectRefOrderStatusData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.lastUpdateTime = this.lastUpdateTime;
+		copy.lastUser = this.lastUser;
+		copy.orderId = this.orderId;
+		copy.status = this.status;
+		if (withRelationships)
+		{
+			copy.__order = this.__order;
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DirectRefOrderStatusFinder.isFullCache(), DirectRefOrderStatusFinder.isOffHeap());
+		this.lastUser = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DirectRefOrderStatusFinder.isFullCache());
+		this.orderId = in.readInt();
+		this.status = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final DirectRefOrderStatusData otherData = (DirectRefOrderStatusData) other;
+		if (getOrderId() != otherData.getOrderId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.orderId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.orderId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+		__order = null;
+	}
+
+	public Object getOrder()
+	{
+		return __order;
+	}
+
+	public void setOrder(Object related)
+	{
+		__order = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final DirectRefOrderStatusData directRefOrderStatusData = (DirectRefOrderStatusData) newData;
+		this.setLastUpdateTime(directRefOrderStatusData.getLastUpdateTime());
+		this.setLastUser(directRefOrderStatusData.getLastUser());
+		this.setStatus(directRefOrderStatusData.getStatus());
+		if (directRefOrderStatusData.isStatusNull()) this.setStatusNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final DirectRefOrderStatusData other = (DirectRefOrderStatusData) newData;
+		if (!isLastUpdateTimeNull() ? !getLastUpdateTime().equals(other.getLastUpdateTime()) : !other.isLastUpdateTimeNull())
+		{
+			return true;
+		}
+
+		if (!isLastUserNull() ? !getLastUser().equals(other.getLastUser()) : !other.isLastUserNull())
+		{
+			return true;
+		}
+
+		if ( isStatusNull() != other.isStatusNull() || getStatus() != other.getStatus())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		DirectRefOrderStatusData copy = new DirectRefOrderStatusData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		DirectRefOrderStatusData copy = new DirectRefOrderStatusData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "orderId: "+(""+getOrderId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.DirectRefOrderStatusData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return DirectRefOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return DirectRefOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.DirectRefOrderStatusData";
+	}
+}
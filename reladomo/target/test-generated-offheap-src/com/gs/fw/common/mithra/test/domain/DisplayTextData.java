@@ -0,0 +1,483 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DisplayTextData
+implements MithraDataObject
+{
+	private byte _dataVersion;
+	private Timestamp businessDateFrom;
+	private Timestamp businessDateTo;
+	private int displayTextI;
+	private byte[] displayTextT;
+	private String languageN;
+	private Timestamp processingDateFrom;
+	private Timestamp processingDateTo;
+	public boolean isBusinessDateFromNull()
+	{
+		return this.getBusinessDateFrom() == null;
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.getBusinessDateTo() == null;
+	}
+
+	public boolean isDisplayTextINull()
+	{
+		return false;
+	}
+
+	public boolean isDisplayTextTNull()
+	{
+		return this.getDisplayTextT() == null;
+	}
+
+	public boolean isLanguageNNull()
+	{
+		return this.getLanguageN() == null;
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.getProcessingDateFrom() == null;
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.getProcessingDateTo() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, DisplayTextFinder.businessDate().getInfinityDate());
+		out.writeInt(this.displayTextI);
+		if (displayTextT == null) out.writeInt(-1); else 
+		{
+			out.writeInt(displayTextT.length); out.write(displayTextT); 
+		}
+
+		;
+		out.writeObject(this.languageN);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, DisplayTextFinder.processingDate().getInfinityDate());
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.businessDateFrom;
+	}
+
+	public long zGetBusinessDateFromAsLong()
+	{
+		if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDateFrom.getTime();
+	}
+
+	public void setBusinessDateFrom(Timestamp value)
+	{
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+	}
+
+	public void setBusinessDateFromNull()
+	{
+		this.setBusinessDateFrom(null);
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.businessDateTo;
+	}
+
+	public long zGetBusinessDateToAsLong()
+	{
+		if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDateTo.getTime();
+	}
+
+	public void setBusinessDateTo(Timestamp value)
+	{
+		if (!value.equals(this.businessDateTo))
+		{
+			zIncrementDataVersion();
+		}
+
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+	}
+
+	public void setBusinessDateToNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getDisplayTextI()
+	{
+		return this.displayTextI;
+	}
+
+	public void setDisplayTextI(int value)
+	{
+		this.displayTextI = value;
+	}
+
+	public void setDisplayTextINull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public byte[] getDisplayTextT()
+	{
+		return this.displayTextT;
+	}
+
+	public void setDisplayTextT(byte[] value)
+	{
+		this.displayTextT = value;
+	}
+
+	public void setDisplayTextTNull()
+	{
+		this.setDisplayTextT(null);
+	}
+
+	public String getLanguageN()
+	{
+		return this.languageN;
+	}
+
+	public int zGetLanguageNAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(languageN);
+	}
+
+	public void setLanguageN(String value)
+	{
+		this.languageN = StringPool.getInstance().getOrAddToCache(value, DisplayTextFinder.isFullCache());
+	}
+
+	public void setLanguageNNull()
+	{
+		this.setLanguageN(null);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.processingDateFrom;
+	}
+
+	public long zGetProcessingDateFromAsLong()
+	{
+		if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+		return processingDateFrom.getTime();
+	}
+
+	public void setProcessingDateFrom(Timestamp value)
+	{
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+	}
+
+	public void setProcessingDateFromNull()
+	{
+		this.setProcessingDateFrom(null);
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.processingDateTo;
+	}
+
+	public long zGetProcessingDateToAsLong()
+	{
+		if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+		return processingDateTo.getTime();
+	}
+
+	public void setProcessingDateTo(Timestamp value)
+	{
+		if (!value.equals(this.processingDateTo))
+		{
+			zIncrementDataVersion();
+		}
+
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+	}
+
+	public void setProcessingDateToNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return _dataVersion; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+		this._dataVersion = version; 
+	}
+
+	public void zIncrementDataVersion()
+	{
+		_dataVersion++;
+		if (_dataVersion > 120) _dataVersion = (byte) 0;
+	}
+
+	protected void copyInto(DisplayTextData copy, boolean withRelationships)
+	{
+		copy.businessDateFrom = this.businessDateFrom;
+		copy.businessDateTo = this.businessDateTo;
+		copy.displayTextI = this.displayTextI;
+		copy.displayTextT = this.displayTextT;
+		copy.languageN = this.languageN;
+		copy.processingDateFrom = this.processingDateFrom;
+		copy.processingDateTo = this.processingDateTo;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DisplayTextFinder.businessDate().getInfinityDate()), DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+		this.displayTextI = in.readInt();
+		int _displayTextTLength = in.readInt(); if (_displayTextTLength == -1) displayTextT = null; else 
+		{
+			displayTextT = new byte[_displayTextTLength];in.readFully(displayTextT);
+		}
+
+		;
+		this.languageN = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DisplayTextFinder.isFullCache());
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DisplayTextFinder.processingDate().getInfinityDate()), DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final DisplayTextData otherData = (DisplayTextData) other;
+		if (getDisplayTextI() != otherData.getDisplayTextI())
+		{
+			return false;
+		}
+
+		if (!isLanguageNNull() ? !getLanguageN().equals(otherData.getLanguageN()) : !otherData.isLanguageNNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, DisplayTextFinder.businessDate().getInfinityDate());
+		out.writeInt(this.displayTextI);
+		out.writeObject(this.languageN);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, DisplayTextFinder.processingDate().getInfinityDate());
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+		this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DisplayTextFinder.businessDate().getInfinityDate()), DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+		this.displayTextI = in.readInt();
+		this.languageN = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DisplayTextFinder.isFullCache());
+		this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+		this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, DisplayTextFinder.processingDate().getInfinityDate()), DisplayTextFinder.isFullCache(), DisplayTextFinder.isOffHeap());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final DisplayTextData displayTextData = (DisplayTextData) newData;
+		this.setBusinessDateFrom(displayTextData.getBusinessDateFrom());
+		this.setBusinessDateTo(displayTextData.getBusinessDateTo());
+		this.setDisplayTextT(displayTextData.getDisplayTextT());
+		this.setProcessingDateFrom(displayTextData.getProcessingDateFrom());
+		this.setProcessingDateTo(displayTextData.getProcessingDateTo());
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final DisplayTextData other = (DisplayTextData) newData;
+		if (!isDisplayTextTNull() ? !Arrays.equals(getDisplayTextT(),other.getDisplayTextT()) : !other.isDisplayTextTNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		DisplayTextData copy = new DisplayTextData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		DisplayTextData copy = new DisplayTextData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+		result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+		result += "displayTextI: "+(""+getDisplayTextI())+ " / ";
+		result += "languageN: "+"'"+getLanguageN()+"'"+ " / ";
+		result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+		result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		boolean result = true;
+		DisplayTextData otherData = (DisplayTextData) other;
+		result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+		result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+		return result;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		DisplayTextData otherData = (DisplayTextData) other;
+		if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+		{
+			return true;
+		}
+
+		if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+		{
+			return true;
+		}
+
+		if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+		{
+			return true;
+		}
+
+		if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.DisplayTextData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return DisplayTextFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return DisplayTextFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.DisplayTextData";
+	}
+}
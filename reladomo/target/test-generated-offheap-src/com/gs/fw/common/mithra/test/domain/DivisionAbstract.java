@@ -0,0 +1,384 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class DivisionAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Division.class.getName());
+	protected static final MithraUpdateListener mithraUpdateListener = new com.gs.fw.common.mithra.test.domain.DivisionUpdateListener();
+	public DivisionAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Division getDetachedCopy() throws MithraBusinessException
+	{
+		return (Division) super.getDetachedCopy();
+	}
+
+	public Division getNonPersistentCopy() throws MithraBusinessException
+	{
+		Division result = (Division) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Division copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Division) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Division zFindOriginal()
+	{
+		DivisionData data = (DivisionData) this.currentData;
+		Operation op;
+		op = DivisionFinder.divisionId().eq(data.getDivisionId());
+		op = op.and(DivisionFinder.sourceId().eq(data.getSourceId()));
+		return DivisionFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DivisionData();
+	}
+
+	protected void zSetFromDivisionData( DivisionData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromDivisionData( DivisionData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCityNull()
+	{
+		return ((DivisionData) this.zSynchronizedGetData()).isCityNull();
+	}
+
+	public String getCity()
+	{
+		DivisionData data = (DivisionData) this.zSynchronizedGetData();
+		return data.getCity();
+	}
+
+	public void setCity(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'city' cannot exceed maximum length of 20: " + newValue);
+		zSetString(DivisionFinder.city(), newValue, false, false );
+	}
+
+	public boolean isDivisionIdNull()
+	{
+		return ((DivisionData) this.zSynchronizedGetData()).isDivisionIdNull();
+	}
+
+	public int getDivisionId()
+	{
+		DivisionData data = (DivisionData) this.zSynchronizedGetData();
+		return data.getDivisionId();
+	}
+
+	public void setDivisionId(int newValue)
+	{
+		zSetInteger(DivisionFinder.divisionId(), newValue, true, false ,false);
+	}
+
+	public boolean isDivisionNameNull()
+	{
+		return ((DivisionData) this.zSynchronizedGetData()).isDivisionNameNull();
+	}
+
+	public String getDivisionName()
+	{
+		DivisionData data = (DivisionData) this.zSynchronizedGetData();
+		return data.getDivisionName();
+	}
+
+	public void setDivisionName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'divisionName' cannot exceed maximum length of 20: " + newValue);
+		zSetString(DivisionFinder.divisionName(), newValue, false, false );
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return ((DivisionData) this.zSynchronizedGetData()).isSourceIdNull();
+	}
+
+	public String getSourceId()
+	{
+		DivisionData data = (DivisionData) this.zSynchronizedGetData();
+		return data.getSourceId();
+	}
+
+	public void setSourceId(String newValue)
+	{
+		zSetString(DivisionFinder.sourceId(), newValue, false, false );
+	}
+
+	public boolean isStateNull()
+	{
+		return ((DivisionData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		DivisionData data = (DivisionData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(DivisionFinder.state(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DivisionData _newData = (DivisionData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		DivisionData _newData = (DivisionData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DivisionData _newData = (DivisionData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Team.divisionId = this.divisionId</pre>
+	* @return teams
+	*/
+	public TeamList getTeams()
+	{
+		TeamList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DivisionData _data = (DivisionData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(DivisionFinder.teams().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(DivisionFinder.teams().zGetRelationshipMultiExtractor(), this);
+					_result = new TeamList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TeamList) _data.getTeams();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(DivisionFinder.teams().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new TeamList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setTeams(TeamList teams)
+	{
+		TeamList _teams = (TeamList) teams;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DivisionData _data = (DivisionData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setTeams(_teams);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Division zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Division original = (Division) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return DivisionFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DivisionFinder.getMithraObjectPortal();
+	}
+
+	public Division getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, DivisionFinder.city(), false);
+		changed |= zUpdateString(behavior, data, newData, DivisionFinder.divisionName(), false);
+		changed |= zUpdateString(behavior, data, newData, DivisionFinder.state(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, DivisionFinder.divisionId(), false);
+		changed |= zUpdateString(behavior, data, newData, DivisionFinder.sourceId(), false);
+		return changed;
+	}
+
+	public void triggerUpdateHook(UpdateInfo updateInfo)
+	{
+		mithraUpdateListener.handleUpdate(this, updateInfo);
+	}
+
+	public void triggerUpdateHookAfterCopy()
+	{
+		mithraUpdateListener.handleUpdateAfterCopy(this);
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		DivisionAbstract result = (DivisionAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
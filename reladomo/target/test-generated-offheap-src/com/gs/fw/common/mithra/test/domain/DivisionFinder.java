@@ -0,0 +1,903 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DivisionFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("sourceId",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Division";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Division";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Division");
+	private static final DivisionSingleFinder<Division, Object, Division> finder = new DivisionSingleFinder<Division, Object, Division>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byDivisionName = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(DivisionFinder.DivisionRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("divisionId");
+		finderMethodMap.addNormalAttributeName("divisionName");
+		finderMethodMap.addNormalAttributeName("city");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addRelationshipName("teams");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = DivisionFinder.divisionId().constructEqualityMapper(TeamFinder.divisionId());
+			result[1] = TeamFinder.divisionId().constructEqualityMapper(DivisionFinder.divisionId());
+			result[2] = DivisionFinder.sourceId().constructEqualityMapper(TeamFinder.sourceId());
+			result[3] = TeamFinder.sourceId().constructEqualityMapper(DivisionFinder.sourceId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return DivisionFinder.zSourceAttributeType;
+	}
+
+	public static Division findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Division findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static DivisionList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (DivisionList) finder.findMany(operation);
+	}
+
+	public static DivisionList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (DivisionList) finder.findManyBypassCache(operation);
+	}
+
+	private static Division findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Division) FinderUtils.findOne(found);
+	}
+
+	public static Division findByPrimaryKey(int divisionId, String sourceId)
+	{
+		return finder.findByPrimaryKey(divisionId, sourceId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DivisionData _castedTargetData = (DivisionData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getDivisionId() && _bean.getO1AsString().equals(_castedTargetData.getSourceId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static Division findByDivisionName(String divisionName, String sourceId)
+	{
+		return finder.findByDivisionName(divisionName, sourceId);
+	}
+
+	private static final RelationshipHashStrategy forDivisionName = new DivisionNameRhs();
+	private static final class DivisionNameRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DivisionData _castedTargetData = (DivisionData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getDivisionName()) && _bean.getO2AsString().equals(_castedTargetData.getSourceId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static Division zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Division) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class DivisionRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Division, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return DivisionFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> divisionId;
+		private StringAttribute<ParentOwnerType> divisionName;
+		private StringAttribute<ParentOwnerType> city;
+		private StringAttribute<ParentOwnerType> state;
+		private DivisionTeamsFinderSubclass<ParentOwnerType> teams;
+		private StringAttribute<ParentOwnerType> sourceId;
+		public DivisionRelatedFinder()
+		{
+			super();
+		}
+
+		public DivisionRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DivisionFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return DivisionFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return DivisionFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return DivisionFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.divisionId();
+			attributes[1] = this.divisionName();
+			attributes[2] = this.city();
+			attributes[3] = this.state();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.teams());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Division findOne(com.gs.fw.finder.Operation operation)
+		{
+			return DivisionFinder.findOne(operation, false);
+		}
+
+		public Division findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return DivisionFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Division> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new DivisionList((Operation) operation);
+		}
+
+		public MithraList<? extends Division> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			DivisionList result = (DivisionList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Division> constructEmptyList()
+		{
+			return new DivisionList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1708637852;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return DivisionFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> divisionId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.divisionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("DIV_ID","","divisionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DivisionFinder.divisionId(), this.mapper, this.zGetValueSelector());
+				this.divisionId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> divisionName()
+		{
+			StringAttribute<ParentOwnerType> result = this.divisionName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","divisionName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(DivisionFinder.divisionName(), this.mapper, this.zGetValueSelector());
+				this.divisionName = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> city()
+		{
+			StringAttribute<ParentOwnerType> result = this.city;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CITY","","city",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(DivisionFinder.city(), this.mapper, this.zGetValueSelector());
+				this.city = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(DivisionFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> sourceId()
+		{
+			StringAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(DivisionFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public TeamFinder.TeamCollectionFinderForRelatedClasses<ParentOwnerType, TeamList, Division> teams()
+		{
+			DivisionTeamsFinderSubclass<ParentOwnerType> result = this.teams;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DivisionFinder.zGetDivisionTeamsReverseMapper());
+				newMapper.setToMany(true);
+				result = new DivisionTeamsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.teams = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return DivisionFinder.sourceId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return DivisionFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return DivisionFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class DivisionCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends DivisionRelatedFinder<ParentOwnerType, ReturnType, DivisionList, OwnerType>
+	{
+		public DivisionCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class DivisionCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends DivisionCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DivisionCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class DivisionSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends DivisionRelatedFinder<ParentOwnerType, ReturnType, DivisionList, OwnerType>
+	implements ToOneFinder
+	{
+		public DivisionSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public DivisionSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Division other)
+		{
+			return this.divisionId().eq(other.getDivisionId())
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Division findByPrimaryKey(int divisionId, String sourceId)
+		{
+			Division _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (sourceId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(divisionId);
+				_bean.setO1(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Division) _related;
+			if (_related == null)
+			{
+				_op = this.divisionId().eq(divisionId).and(this.sourceId().eq(sourceId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Division findByDivisionName(String divisionName, String sourceId)
+		{
+			Division _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (divisionName != null && sourceId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(divisionName);
+				_bean.setO2(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forDivisionName, null, null, DivisionFinder.zGetIndexbyDivisionNameRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Division) _related;
+			if (_related == null)
+			{
+				_op = this.divisionName().eq(divisionName).and(this.sourceId().eq(sourceId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class DivisionSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends DivisionSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DivisionSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper teamsReverseMapper = null;
+	public static Mapper zGetDivisionTeamsReverseMapper()
+	{
+		if (teamsReverseMapper == null)
+		{
+			teamsReverseMapper = zConstructDivisionTeamsReverseMapper();
+		}
+
+		return teamsReverseMapper;
+	}
+
+	private static Mapper teamsMapper = null;
+	public static Mapper zGetDivisionTeamsMapper()
+	{
+		if (teamsMapper == null)
+		{
+			teamsMapper = zConstructDivisionTeamsMapper();
+		}
+
+		return teamsMapper;
+	}
+
+	private static Mapper teamsPureReverseMapper = null;
+	public static Mapper zGetDivisionTeamsPureReverseMapper()
+	{
+		if (teamsPureReverseMapper == null)
+		{
+			teamsPureReverseMapper = zConstructDivisionTeamsPureReverseMapper();
+		}
+
+		return teamsPureReverseMapper;
+	}
+
+	private static Mapper zConstructDivisionTeamsPureReverseMapper()
+	{
+		InternalList teamsMapperMapperList = new InternalList(2);
+		teamsMapperMapperList.add(DivisionFinder.zGetConstantJoin(0));
+		teamsMapperMapperList.add(DivisionFinder.zGetConstantJoin(2));
+		Mapper teamsMapper = new MultiEqualityMapper(teamsMapperMapperList);
+		teamsMapper.setName("teams");
+		return teamsMapper;
+	}
+
+	private static Mapper zConstructDivisionTeamsReverseMapper()
+	{
+		InternalList teamsMapperMapperList = new InternalList(2);
+		teamsMapperMapperList.add(DivisionFinder.zGetConstantJoin(0));
+		teamsMapperMapperList.add(DivisionFinder.zGetConstantJoin(2));
+		Mapper teamsMapper = new MultiEqualityMapper(teamsMapperMapperList);
+		teamsMapper.setName("teams");
+		return teamsMapper;
+	}
+
+	private static Mapper zConstructDivisionTeamsMapper()
+	{
+		InternalList teamsMapperMapperList = new InternalList(2);
+		teamsMapperMapperList.add(DivisionFinder.zGetConstantJoin(1));
+		teamsMapperMapperList.add(DivisionFinder.zGetConstantJoin(3));
+		Mapper teamsMapper = new MultiEqualityMapper(teamsMapperMapperList);
+		teamsMapper.setName("teams_Reverse");
+		return teamsMapper;
+	}
+
+	/** maps to DIVISION.DIV_ID **/
+	public static IntegerAttribute<Division> divisionId()
+	{
+		return finder.divisionId();
+	}
+
+	/** maps to DIVISION."NAME" **/
+	public static StringAttribute<Division> divisionName()
+	{
+		return finder.divisionName();
+	}
+
+	/** maps to DIVISION.CITY **/
+	public static StringAttribute<Division> city()
+	{
+		return finder.city();
+	}
+
+	/** maps to DIVISION."STATE" **/
+	public static StringAttribute<Division> state()
+	{
+		return finder.state();
+	}
+
+	public static StringAttribute<Division> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	public static TeamFinder.TeamCollectionFinderForRelatedClasses<Division, TeamList, Division> teams()
+	{
+		return finder.teams();
+	}
+
+	public static class DivisionTeamsFinderSubclass<ParentOwnerType> extends TeamFinder.TeamCollectionFinderForRelatedClasses<ParentOwnerType, TeamList, Division>
+	{
+		public DivisionTeamsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "teams";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TeamFinder.divisionId(),
+				TeamFinder.sourceId()).withExtractors(
+				DivisionFinder.divisionId(),
+				DivisionFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DivisionTeamsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TeamList plainValueOf(Division _obj)
+		{
+			return _obj.getTeams();
+		}
+
+		protected TeamList plainListValueOf(Object _obj)
+		{
+			return ((DivisionList)_obj).getTeams();
+		}
+	}
+
+	public static Operation eq(Division other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(divisionId());
+	}
+
+	public static DivisionSingleFinder<Division, Object, Division> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			divisionId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			divisionId()
+			, divisionId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_byDivisionName = cache.addUniqueIndex("byDivisionName", new Attribute[] 
+		{
+			divisionName()
+			, sourceId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyDivisionNameRef() 
+	{
+		return INDEX_byDivisionName; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Division");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String sourceId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(sourceId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> sourceIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceIdSet, listener);
+	}
+}
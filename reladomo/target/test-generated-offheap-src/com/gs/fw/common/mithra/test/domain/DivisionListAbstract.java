@@ -0,0 +1,160 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DivisionListAbstract extends DelegatingList<Division> implements MithraTransactionalList<Division>
+{
+	public DivisionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DivisionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DivisionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DivisionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Division[] elements()
+	{
+		Division[] result = new Division[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DivisionList intersection(DivisionList another)
+	{
+		return (DivisionList)super.intersection(another);
+	}
+
+	public Division getDivisionAt(int index)
+	{
+		return (Division)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Team.divisionId = this.divisionId</pre>
+	* @return teams
+	*/
+	public TeamList getTeams()
+	{
+		return (TeamList) this.zGetDelegated().resolveRelationship(this, DivisionFinder.teams());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DivisionFinder.getMithraObjectPortal();
+	}
+
+	public DivisionList getNonPersistentCopy()
+	{
+		DivisionList result = new DivisionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DivisionList asAdhoc()
+	{
+		return (DivisionList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Division> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public DivisionList merge(MithraTransactionalList<Division> incoming, TopLevelMergeOptions<Division> mergeOptions)
+	{
+		return (DivisionList) super.merge(incoming, mergeOptions);
+	}
+
+	public DivisionList getDetachedCopy()
+	{
+		DivisionList result = new DivisionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDivisionId(int newValue)
+	{
+		zSetInteger(DivisionFinder.divisionId(), newValue);
+	}
+
+	public void setDivisionName(String newValue)
+	{
+		zSetString(DivisionFinder.divisionName(), newValue);
+	}
+
+	public void setCity(String newValue)
+	{
+		zSetString(DivisionFinder.city(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(DivisionFinder.state(), newValue);
+	}
+
+	public void setSourceId(String newValue)
+	{
+		zSetString(DivisionFinder.sourceId(), newValue);
+	}
+}
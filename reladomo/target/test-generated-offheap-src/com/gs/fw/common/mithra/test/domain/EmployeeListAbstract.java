@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class EmployeeListAbstract extends DelegatingList<Employee> implements MithraTransactionalList<Employee>
+{
+	public EmployeeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public EmployeeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public EmployeeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public EmployeeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Employee[] elements()
+	{
+		Employee[] result = new Employee[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public EmployeeList intersection(EmployeeList another)
+	{
+		return (EmployeeList)super.intersection(another);
+	}
+
+	public Employee getEmployeeAt(int index)
+	{
+		return (Employee)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EmployeeFinder.getMithraObjectPortal();
+	}
+
+	public EmployeeList getNonPersistentCopy()
+	{
+		EmployeeList result = new EmployeeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public EmployeeList asAdhoc()
+	{
+		return (EmployeeList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Employee> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public EmployeeList merge(MithraTransactionalList<Employee> incoming, TopLevelMergeOptions<Employee> mergeOptions)
+	{
+		return (EmployeeList) super.merge(incoming, mergeOptions);
+	}
+
+	public EmployeeList getDetachedCopy()
+	{
+		EmployeeList result = new EmployeeList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(EmployeeFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(EmployeeFinder.name(), newValue);
+	}
+
+	public void setPhone(String newValue)
+	{
+		zSetString(EmployeeFinder.phone(), newValue);
+	}
+
+	public void setDesignation(String newValue)
+	{
+		zSetString(EmployeeFinder.designation(), newValue);
+	}
+
+	public void setEmail(String newValue)
+	{
+		zSetString(EmployeeFinder.email(), newValue);
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(EmployeeFinder.sourceId(), newValue);
+	}
+}
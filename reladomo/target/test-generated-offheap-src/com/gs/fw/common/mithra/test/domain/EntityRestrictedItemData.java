@@ -0,0 +1,1117 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface EntityRestrictedItemData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 52;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isRestrictedItemIdNull();
+	long getRestrictedItemId();
+	void setRestrictedItemId(long value);
+	void setRestrictedItemIdNull();
+	boolean isRufusListIdNull();
+	String getRufusListId();
+	void setRufusListId(String value);
+	void setRufusListIdNull();
+	int zGetRufusListIdAsInt();
+	boolean isUpdateByNull();
+	String getUpdateBy();
+	void setUpdateBy(String value);
+	void setUpdateByNull();
+	int zGetUpdateByAsInt();
+	boolean zGetIsRestrictedItemIdSet();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getRestrictedEntity();
+	void setRestrictedEntity(Object related);
+	Object getComments();
+	void setComments(Object related);
+	public class EntityRestrictedItemDataOnHeap implements EntityRestrictedItemData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private long restrictedItemId;
+		private String rufusListId;
+		private String updateBy;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isRestrictedItemIdNull()
+		{
+			return false;
+		}
+
+		public boolean isRufusListIdNull()
+		{
+			return this.getRufusListId() == null;
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return this.getUpdateBy() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, EntityRestrictedItemFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, EntityRestrictedItemFinder.processingDate().getInfinityDate());
+			out.writeLong(this.restrictedItemId);
+			out.writeBoolean(_isRestrictedItemIdSet);
+			out.writeObject(this.rufusListId);
+			out.writeObject(this.updateBy);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedItemId()
+		{
+			return this.restrictedItemId;
+		}
+
+		public void setRestrictedItemId(long value)
+		{
+			this.restrictedItemId = value;
+			_isRestrictedItemIdSet = true;
+		}
+
+		public void setRestrictedItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getRufusListId()
+		{
+			return this.rufusListId;
+		}
+
+		public int zGetRufusListIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(rufusListId);
+		}
+
+		public void setRufusListId(String value)
+		{
+			this.rufusListId = StringPool.getInstance().getOrAddToCache(value, EntityRestrictedItemFinder.isFullCache());
+		}
+
+		public void setRufusListIdNull()
+		{
+			this.setRufusListId(null);
+		}
+
+		public String getUpdateBy()
+		{
+			return this.updateBy;
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(updateBy);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			this.updateBy = StringPool.getInstance().getOrAddToCache(value, EntityRestrictedItemFinder.isFullCache());
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public boolean _isRestrictedItemIdSet;
+		public boolean zGetIsRestrictedItemIdSet()
+		{
+			return _isRestrictedItemIdSet;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(EntityRestrictedItemDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.restrictedItemId = this.restrictedItemId;
+			copy.rufusListId = this.rufusListId;
+			copy.updateBy = this.updateBy;
+			copy._isRestrictedItemIdSet = this._isRestrictedItemIdSet;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[2];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, EntityRestrictedItemFinder.businessDate().getInfinityDate()), EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, EntityRestrictedItemFinder.processingDate().getInfinityDate()), EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+			this.restrictedItemId = in.readLong();
+			_isRestrictedItemIdSet = in.readBoolean();
+			this.rufusListId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EntityRestrictedItemFinder.isFullCache());
+			this.updateBy = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EntityRestrictedItemFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final EntityRestrictedItemData otherData = (EntityRestrictedItemData) other;
+			if (getRestrictedItemId() != otherData.getRestrictedItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, EntityRestrictedItemFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, EntityRestrictedItemFinder.processingDate().getInfinityDate());
+			out.writeLong(this.restrictedItemId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, EntityRestrictedItemFinder.businessDate().getInfinityDate()), EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, EntityRestrictedItemFinder.processingDate().getInfinityDate()), EntityRestrictedItemFinder.isFullCache(), EntityRestrictedItemFinder.isOffHeap());
+			this.restrictedItemId = in.readLong();
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getRestrictedEntity()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setRestrictedEntity(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getComments()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setComments(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			EntityRestrictedItemDataOffHeap data = new EntityRestrictedItemDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setRestrictedItemId(this.getRestrictedItemId());
+			data.setRufusListId(this.getRufusListId());
+			data.setUpdateBy(this.getUpdateBy());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final EntityRestrictedItemData entityRestrictedItemData = (EntityRestrictedItemData) newData;
+			this.setBusinessDateFrom(entityRestrictedItemData.getBusinessDateFrom());
+			this.setBusinessDateTo(entityRestrictedItemData.getBusinessDateTo());
+			this.setProcessingDateFrom(entityRestrictedItemData.getProcessingDateFrom());
+			this.setProcessingDateTo(entityRestrictedItemData.getProcessingDateTo());
+			this.setRufusListId(entityRestrictedItemData.getRufusListId());
+			this.setUpdateBy(entityRestrictedItemData.getUpdateBy());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final EntityRestrictedItemData other = (EntityRestrictedItemData) newData;
+			if (!isRufusListIdNull() ? !getRufusListId().equals(other.getRufusListId()) : !other.isRufusListIdNull())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			EntityRestrictedItemDataOnHeap copy = new EntityRestrictedItemDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			EntityRestrictedItemDataOnHeap copy = new EntityRestrictedItemDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "restrictedItemId: "+(""+getRestrictedItemId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			EntityRestrictedItemData otherData = (EntityRestrictedItemData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			EntityRestrictedItemData otherData = (EntityRestrictedItemData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.EntityRestrictedItemData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return EntityRestrictedItemFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return EntityRestrictedItemFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.EntityRestrictedItemData";
+		}
+	}
+
+	public class EntityRestrictedItemDataOffHeap extends MithraOffHeapDataObject implements EntityRestrictedItemData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public EntityRestrictedItemDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 28);
+			this.zSetTimestamp(_storage, value, 36);
+		}
+
+		public EntityRestrictedItemDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 36);
+		}
+
+		public boolean isRestrictedItemIdNull()
+		{
+			return false;
+		}
+
+		public boolean isRufusListIdNull()
+		{
+			return zIsStringNull(_storage, 44);
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return zIsStringNull(_storage, 48);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), EntityRestrictedItemFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), EntityRestrictedItemFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getRestrictedItemId());
+			out.writeBoolean(true);
+			out.writeObject(this.getRufusListId());
+			out.writeObject(this.getUpdateBy());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 36);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 36);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 36);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedItemId()
+		{
+			return zGetLong(_storage, 4);
+		}
+
+		public void setRestrictedItemId(long value)
+		{
+			zSetLong(_storage, value, 4, -1, -1);
+		}
+
+		public void setRestrictedItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getRufusListId()
+		{
+			return zGetString(_storage, 44);
+		}
+
+		public int zGetRufusListIdAsInt()
+		{
+			return zGetInteger(_storage, 44);
+		}
+
+		public void setRufusListId(String value)
+		{
+			zSetString(_storage, value, 44);
+		}
+
+		public void setRufusListIdNull()
+		{
+			this.setRufusListId(null);
+		}
+
+		public String getUpdateBy()
+		{
+			return zGetString(_storage, 48);
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return zGetInteger(_storage, 48);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			zSetString(_storage, value, 48);
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public boolean zGetIsRestrictedItemIdSet()
+		{
+			return true;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(EntityRestrictedItemDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.restrictedItemId = this.getRestrictedItemId();
+			copy.rufusListId = this.getRufusListId();
+			copy.updateBy = this.getUpdateBy();
+			copy._isRestrictedItemIdSet = true;
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			in.readBoolean();
+			zSetString(_storage, (String)in.readObject(), 44);
+			zSetString(_storage, (String)in.readObject(), 48);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof EntityRestrictedItemDataOffHeap)
+			{
+				final EntityRestrictedItemDataOffHeap otherData = (EntityRestrictedItemDataOffHeap) other;
+				if (this.zGetLong(_storage, 4) != otherData.zGetLong(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final EntityRestrictedItemData otherData = (EntityRestrictedItemData) other;
+			if (getRestrictedItemId() != otherData.getRestrictedItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), EntityRestrictedItemFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), EntityRestrictedItemFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getRestrictedItemId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getRestrictedEntity()
+		{
+			return null;
+		}
+
+		public void setRestrictedEntity(Object related)
+		{
+		}
+
+		public Object getComments()
+		{
+			return null;
+		}
+
+		public void setComments(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final EntityRestrictedItemData entityRestrictedItemData = (EntityRestrictedItemData) newData;
+			this.setBusinessDateFrom(entityRestrictedItemData.getBusinessDateFrom());
+			this.setBusinessDateTo(entityRestrictedItemData.getBusinessDateTo());
+			this.setProcessingDateFrom(entityRestrictedItemData.getProcessingDateFrom());
+			this.setProcessingDateTo(entityRestrictedItemData.getProcessingDateTo());
+			this.setRufusListId(entityRestrictedItemData.getRufusListId());
+			this.setUpdateBy(entityRestrictedItemData.getUpdateBy());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final EntityRestrictedItemData other = (EntityRestrictedItemData) newData;
+			if (!isRufusListIdNull() ? !getRufusListId().equals(other.getRufusListId()) : !other.isRufusListIdNull())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			EntityRestrictedItemDataOnHeap copy = new EntityRestrictedItemDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			EntityRestrictedItemDataOnHeap copy = new EntityRestrictedItemDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "restrictedItemId: "+(""+getRestrictedItemId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			EntityRestrictedItemData otherData = (EntityRestrictedItemData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			EntityRestrictedItemData otherData = (EntityRestrictedItemData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.EntityRestrictedItemData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return EntityRestrictedItemFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return EntityRestrictedItemFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.EntityRestrictedItemData";
+		}
+	}
+}
@@ -0,0 +1,1040 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EntityRestrictedItemFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/EntityRestrictedItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.EntityRestrictedItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.EntityRestrictedItem");
+	private static final EntityRestrictedItemSingleFinder<EntityRestrictedItem, Object, EntityRestrictedItem> finder = new EntityRestrictedItemSingleFinder<EntityRestrictedItem, Object, EntityRestrictedItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(EntityRestrictedItemFinder.EntityRestrictedItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("restrictedItemId");
+		finderMethodMap.addNormalAttributeName("rufusListId");
+		finderMethodMap.addNormalAttributeName("updateBy");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("restrictedEntity");
+		finderMethodMap.addRelationshipName("comments");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = EntityRestrictedItemFinder.restrictedItemId().constructEqualityMapper(RestrictedEntityFinder.restrictedItemId());
+			result[1] = RestrictedEntityFinder.restrictedItemId().constructEqualityMapper(EntityRestrictedItemFinder.restrictedItemId());
+			result[2] = EntityRestrictedItemFinder.businessDate().constructEqualityMapper(RestrictedEntityFinder.businessDate());
+			result[3] = RestrictedEntityFinder.businessDate().constructEqualityMapper(EntityRestrictedItemFinder.businessDate());
+			result[4] = EntityRestrictedItemFinder.processingDate().constructEqualityMapper(RestrictedEntityFinder.processingDate());
+			result[5] = RestrictedEntityFinder.processingDate().constructEqualityMapper(EntityRestrictedItemFinder.processingDate());
+			result[6] = EntityRestrictedItemFinder.restrictedItemId().constructEqualityMapper(RestrictedItemCommentFinder.restrictedItemId());
+			result[7] = RestrictedItemCommentFinder.restrictedItemId().constructEqualityMapper(EntityRestrictedItemFinder.restrictedItemId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static EntityRestrictedItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static EntityRestrictedItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static EntityRestrictedItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (EntityRestrictedItemList) finder.findMany(operation);
+	}
+
+	public static EntityRestrictedItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (EntityRestrictedItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static EntityRestrictedItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (EntityRestrictedItem) FinderUtils.findOne(found);
+	}
+
+	public static EntityRestrictedItem findByPrimaryKey(long restrictedItemId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(restrictedItemId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			EntityRestrictedItemData _castedTargetData = (EntityRestrictedItemData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getRestrictedItemId())
+			{
+				return EntityRestrictedItemFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && EntityRestrictedItemFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static EntityRestrictedItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (EntityRestrictedItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class EntityRestrictedItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<EntityRestrictedItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> restrictedItemId;
+		private StringAttribute<ParentOwnerType> rufusListId;
+		private StringAttribute<ParentOwnerType> updateBy;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private EntityRestrictedItemRestrictedEntityFinderSubclass<ParentOwnerType> restrictedEntity;
+		private EntityRestrictedItemCommentsFinderSubclass<ParentOwnerType> comments;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public EntityRestrictedItemRelatedFinder()
+		{
+			super();
+		}
+
+		public EntityRestrictedItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.EntityRestrictedItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return EntityRestrictedItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return EntityRestrictedItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return EntityRestrictedItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.restrictedItemId();
+			attributes[1] = this.rufusListId();
+			attributes[2] = this.updateBy();
+			attributes[3] = this.processingDateFrom();
+			attributes[4] = this.processingDateTo();
+			attributes[5] = this.businessDateFrom();
+			attributes[6] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.restrictedEntity());
+				relatedFinders.add(this.comments());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.restrictedEntity());
+				dependentRelatedFinders.add(this.comments());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public EntityRestrictedItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return EntityRestrictedItemFinder.findOne(operation, false);
+		}
+
+		public EntityRestrictedItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return EntityRestrictedItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends EntityRestrictedItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new EntityRestrictedItemList((Operation) operation);
+		}
+
+		public MithraList<? extends EntityRestrictedItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			EntityRestrictedItemList result = (EntityRestrictedItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends EntityRestrictedItem> constructEmptyList()
+		{
+			return new EntityRestrictedItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -287275219;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> restrictedItemId()
+		{
+			LongAttribute<ParentOwnerType> result = this.restrictedItemId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("RESTRICTED_ITEM_ID","","restrictedItemId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,4,-1,-1,true, false) :
+					new MappedLongAttribute(EntityRestrictedItemFinder.restrictedItemId(), this.mapper, this.zGetValueSelector());
+				this.restrictedItemId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rufusListId()
+		{
+			StringAttribute<ParentOwnerType> result = this.rufusListId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("RUFUS_LIST_ID","","rufusListId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,44,-1,-1,12,true, false) :
+					new MappedStringAttribute(EntityRestrictedItemFinder.rufusListId(), this.mapper, this.zGetValueSelector());
+				this.rufusListId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> updateBy()
+		{
+			StringAttribute<ParentOwnerType> result = this.updateBy;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("UPDATE_BY","","updateBy",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,48,-1,-1,30,true, false) :
+					new MappedStringAttribute(EntityRestrictedItemFinder.updateBy(), this.mapper, this.zGetValueSelector());
+				this.updateBy = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_DT","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,EntityRestrictedItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EntityRestrictedItemFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_DT","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,36,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,EntityRestrictedItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EntityRestrictedItemFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_DT","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,EntityRestrictedItemFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EntityRestrictedItemFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_DT","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,EntityRestrictedItemFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EntityRestrictedItemFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),EntityRestrictedItemFinder.businessDateInfinity,false,true,EntityRestrictedItemFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(EntityRestrictedItemFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),EntityRestrictedItemFinder.processingDateInfinity,false,false,EntityRestrictedItemFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(EntityRestrictedItemFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public RestrictedEntityFinder.RestrictedEntitySingleFinderForRelatedClasses<ParentOwnerType, RestrictedEntity, EntityRestrictedItem> restrictedEntity()
+		{
+			EntityRestrictedItemRestrictedEntityFinderSubclass<ParentOwnerType> result = this.restrictedEntity;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EntityRestrictedItemFinder.zGetEntityRestrictedItemRestrictedEntityReverseMapper());
+				newMapper.setToMany(false);
+				result = new EntityRestrictedItemRestrictedEntityFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.restrictedEntity = result;
+			}
+
+			return result;
+		}
+
+		public RestrictedItemCommentFinder.RestrictedItemCommentCollectionFinderForRelatedClasses<ParentOwnerType, RestrictedItemCommentList, EntityRestrictedItem> comments()
+		{
+			EntityRestrictedItemCommentsFinderSubclass<ParentOwnerType> result = this.comments;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EntityRestrictedItemFinder.zGetEntityRestrictedItemCommentsReverseMapper());
+				newMapper.setToMany(true);
+				result = new EntityRestrictedItemCommentsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.comments = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return EntityRestrictedItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return EntityRestrictedItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class EntityRestrictedItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends EntityRestrictedItemRelatedFinder<ParentOwnerType, ReturnType, EntityRestrictedItemList, OwnerType>
+	{
+		public EntityRestrictedItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class EntityRestrictedItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends EntityRestrictedItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EntityRestrictedItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class EntityRestrictedItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends EntityRestrictedItemRelatedFinder<ParentOwnerType, ReturnType, EntityRestrictedItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public EntityRestrictedItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public EntityRestrictedItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(EntityRestrictedItem other)
+		{
+			return this.restrictedItemId().eq(other.getRestrictedItemId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public EntityRestrictedItem findByPrimaryKey(long restrictedItemId, Timestamp businessDate, Timestamp processingDate)
+		{
+			EntityRestrictedItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(restrictedItemId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (EntityRestrictedItem) _related;
+			if (_related == null)
+			{
+				_op = this.restrictedItemId().eq(restrictedItemId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class EntityRestrictedItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends EntityRestrictedItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EntityRestrictedItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper restrictedEntityReverseMapper = null;
+	public static Mapper zGetEntityRestrictedItemRestrictedEntityReverseMapper()
+	{
+		if (restrictedEntityReverseMapper == null)
+		{
+			restrictedEntityReverseMapper = zConstructEntityRestrictedItemRestrictedEntityReverseMapper();
+		}
+
+		return restrictedEntityReverseMapper;
+	}
+
+	private static Mapper restrictedEntityMapper = null;
+	public static Mapper zGetEntityRestrictedItemRestrictedEntityMapper()
+	{
+		if (restrictedEntityMapper == null)
+		{
+			restrictedEntityMapper = zConstructEntityRestrictedItemRestrictedEntityMapper();
+		}
+
+		return restrictedEntityMapper;
+	}
+
+	private static Mapper restrictedEntityPureReverseMapper = null;
+	public static Mapper zGetEntityRestrictedItemRestrictedEntityPureReverseMapper()
+	{
+		if (restrictedEntityPureReverseMapper == null)
+		{
+			restrictedEntityPureReverseMapper = zConstructEntityRestrictedItemRestrictedEntityPureReverseMapper();
+		}
+
+		return restrictedEntityPureReverseMapper;
+	}
+
+	private static Mapper zConstructEntityRestrictedItemRestrictedEntityPureReverseMapper()
+	{
+		InternalList restrictedEntityMapperMapperList = new InternalList(3);
+		restrictedEntityMapperMapperList.add(EntityRestrictedItemFinder.zGetConstantJoin(0));
+		restrictedEntityMapperMapperList.add(EntityRestrictedItemFinder.zGetConstantJoin(2));
+		restrictedEntityMapperMapperList.add(EntityRestrictedItemFinder.zGetConstantJoin(4));
+		Mapper restrictedEntityMapper = new MultiEqualityMapper(restrictedEntityMapperMapperList);
+		restrictedEntityMapper.setName("restrictedEntity");
+		return restrictedEntityMapper;
+	}
+
+	private static Mapper zConstructEntityRestrictedItemRestrictedEntityReverseMapper()
+	{
+		InternalList restrictedEntityMapperMapperList = new InternalList(3);
+		restrictedEntityMapperMapperList.add(EntityRestrictedItemFinder.zGetConstantJoin(0));
+		restrictedEntityMapperMapperList.add(EntityRestrictedItemFinder.zGetConstantJoin(2));
+		restrictedEntityMapperMapperList.add(EntityRestrictedItemFinder.zGetConstantJoin(4));
+		Mapper restrictedEntityMapper = new MultiEqualityMapper(restrictedEntityMapperMapperList);
+		restrictedEntityMapper.setName("restrictedEntity");
+		return restrictedEntityMapper;
+	}
+
+	private static Mapper zConstructEntityRestrictedItemRestrictedEntityMapper()
+	{
+		InternalList restrictedEntityMapperMapperList = new InternalList(3);
+		restrictedEntityMapperMapperList.add(EntityRestrictedItemFinder.zGetConstantJoin(1));
+		restrictedEntityMapperMapperList.add(EntityRestrictedItemFinder.zGetConstantJoin(3));
+		restrictedEntityMapperMapperList.add(EntityRestrictedItemFinder.zGetConstantJoin(5));
+		Mapper restrictedEntityMapper = new MultiEqualityMapper(restrictedEntityMapperMapperList);
+		restrictedEntityMapper.setName("restrictedItem");
+		return restrictedEntityMapper;
+	}
+
+	private static Mapper commentsReverseMapper = null;
+	public static Mapper zGetEntityRestrictedItemCommentsReverseMapper()
+	{
+		if (commentsReverseMapper == null)
+		{
+			commentsReverseMapper = zConstructEntityRestrictedItemCommentsReverseMapper();
+		}
+
+		return commentsReverseMapper;
+	}
+
+	private static Mapper commentsMapper = null;
+	public static Mapper zGetEntityRestrictedItemCommentsMapper()
+	{
+		if (commentsMapper == null)
+		{
+			commentsMapper = zConstructEntityRestrictedItemCommentsMapper();
+		}
+
+		return commentsMapper;
+	}
+
+	private static Mapper commentsPureReverseMapper = null;
+	public static Mapper zGetEntityRestrictedItemCommentsPureReverseMapper()
+	{
+		if (commentsPureReverseMapper == null)
+		{
+			commentsPureReverseMapper = zConstructEntityRestrictedItemCommentsPureReverseMapper();
+		}
+
+		return commentsPureReverseMapper;
+	}
+
+	private static Mapper zConstructEntityRestrictedItemCommentsPureReverseMapper()
+	{
+		Mapper commentsMapper = EntityRestrictedItemFinder.zGetConstantJoin(6);
+		commentsMapper.setName("comments");
+		return commentsMapper;
+	}
+
+	private static Mapper zConstructEntityRestrictedItemCommentsReverseMapper()
+	{
+		Mapper commentsMapper = EntityRestrictedItemFinder.zGetConstantJoin(6);
+		commentsMapper.setName("comments");
+		return commentsMapper;
+	}
+
+	private static Mapper zConstructEntityRestrictedItemCommentsMapper()
+	{
+		Mapper commentsMapper = EntityRestrictedItemFinder.zGetConstantJoin(7);
+		commentsMapper.setName("comments_Reverse");
+		return commentsMapper;
+	}
+
+	/** maps to RESTRICTED_ITEM.RESTRICTED_ITEM_ID **/
+	public static LongAttribute<EntityRestrictedItem> restrictedItemId()
+	{
+		return finder.restrictedItemId();
+	}
+
+	/** maps to RESTRICTED_ITEM.RUFUS_LIST_ID **/
+	public static StringAttribute<EntityRestrictedItem> rufusListId()
+	{
+		return finder.rufusListId();
+	}
+
+	/** maps to RESTRICTED_ITEM.UPDATE_BY **/
+	public static StringAttribute<EntityRestrictedItem> updateBy()
+	{
+		return finder.updateBy();
+	}
+
+	/** maps to RESTRICTED_ITEM.IN_DT **/
+	public static TimestampAttribute<EntityRestrictedItem> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to RESTRICTED_ITEM.OUT_DT **/
+	public static TimestampAttribute<EntityRestrictedItem> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to RESTRICTED_ITEM.FROM_DT **/
+	public static TimestampAttribute<EntityRestrictedItem> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to RESTRICTED_ITEM.THRU_DT **/
+	public static TimestampAttribute<EntityRestrictedItem> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<EntityRestrictedItem> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<EntityRestrictedItem> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static RestrictedEntityFinder.RestrictedEntitySingleFinderForRelatedClasses<EntityRestrictedItem, RestrictedEntity, EntityRestrictedItem> restrictedEntity()
+	{
+		return finder.restrictedEntity();
+	}
+
+	public static class EntityRestrictedItemRestrictedEntityFinderSubclass<ParentOwnerType> extends RestrictedEntityFinder.RestrictedEntitySingleFinderForRelatedClasses<ParentOwnerType, RestrictedEntity, EntityRestrictedItem>
+	{
+		public EntityRestrictedItemRestrictedEntityFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "restrictedEntity";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				RestrictedEntityFinder.restrictedItemId(),
+				RestrictedEntityFinder.businessDate(),
+				RestrictedEntityFinder.processingDate()).withExtractors(
+				EntityRestrictedItemFinder.restrictedItemId(),
+				EntityRestrictedItemFinder.businessDate(),
+				EntityRestrictedItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EntityRestrictedItemRestrictedEntityFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((EntityRestrictedItem) _obj).isRestrictedEntityModifiedSinceDetachment();
+		}
+
+		protected RestrictedEntity plainValueOf(EntityRestrictedItem _obj)
+		{
+			return _obj.getRestrictedEntity();
+		}
+
+		protected RestrictedEntityList plainListValueOf(Object _obj)
+		{
+			return ((EntityRestrictedItemList)_obj).getRestrictedEntities();
+		}
+	}
+
+	public static RestrictedItemCommentFinder.RestrictedItemCommentCollectionFinderForRelatedClasses<EntityRestrictedItem, RestrictedItemCommentList, EntityRestrictedItem> comments()
+	{
+		return finder.comments();
+	}
+
+	public static class EntityRestrictedItemCommentsFinderSubclass<ParentOwnerType> extends RestrictedItemCommentFinder.RestrictedItemCommentCollectionFinderForRelatedClasses<ParentOwnerType, RestrictedItemCommentList, EntityRestrictedItem>
+	{
+		public EntityRestrictedItemCommentsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "comments";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EntityRestrictedItemCommentsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((EntityRestrictedItem) _obj).isCommentsModifiedSinceDetachment();
+		}
+
+		protected RestrictedItemCommentList plainValueOf(EntityRestrictedItem _obj)
+		{
+			return _obj.getComments();
+		}
+
+		protected RestrictedItemCommentList plainListValueOf(Object _obj)
+		{
+			return ((EntityRestrictedItemList)_obj).getComments();
+		}
+	}
+
+	public static Operation eq(EntityRestrictedItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(restrictedItemId());
+	}
+
+	public static EntityRestrictedItemSingleFinder<EntityRestrictedItem, Object, EntityRestrictedItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedItemId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedItemId()
+			, restrictedItemId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.EntityRestrictedItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,584 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ExchangeRateChildData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private String acmapCode;
+	private int childNum;
+	private String currency;
+	private Timestamp dt;
+	private String name;
+	private int source;
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isChildNumNull()
+	{
+		return false;
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.getCurrency() == null;
+	}
+
+	public boolean isDtNull()
+	{
+		return this.getDt() == null;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isSourceNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.acmapCode);
+		out.writeInt(this.childNum);
+		out.writeObject(this.currency);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.dt);
+		out.writeObject(this.name);
+		out.writeInt(this.source);
+		out.writeInt(this._oldsource);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this._olddt);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	private int _oldsource;
+	private Timestamp _olddt;
+	public boolean _oldisDtNull()
+	{
+		return this._oldgetDt() == null;
+	}
+
+	public boolean _oldisSourceNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public int zGetAcmapCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(acmapCode);
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, ExchangeRateChildFinder.isFullCache());
+	}
+
+	public void setAcmapCodeNull()
+	{
+		this.setAcmapCode(null);
+	}
+
+	public int getChildNum()
+	{
+		return this.childNum;
+	}
+
+	public void setChildNum(int value)
+	{
+		this.childNum = value;
+	}
+
+	public void setChildNumNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getCurrency()
+	{
+		return this.currency;
+	}
+
+	public int zGetCurrencyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(currency);
+	}
+
+	public void setCurrency(String value)
+	{
+		this.currency = StringPool.getInstance().getOrAddToCache(value, ExchangeRateChildFinder.isFullCache());
+	}
+
+	public void setCurrencyNull()
+	{
+		this.setCurrency(null);
+	}
+
+	public Timestamp getDt()
+	{
+		return this.dt;
+	}
+
+	public long zGetDtAsLong()
+	{
+		if (dt == null) return TimestampPool.OFF_HEAP_NULL;
+		return dt.getTime();
+	}
+
+	public void setDt(Timestamp value)
+	{
+		this.dt = TimestampPool.getInstance().getOrAddToCache(value, ExchangeRateChildFinder.isFullCache(), ExchangeRateChildFinder.isOffHeap());
+	}
+
+	public void setDtNull()
+	{
+		this.setDt(null);
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, ExchangeRateChildFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public int getSource()
+	{
+		return this.source;
+	}
+
+	public void setSource(int value)
+	{
+		this.source = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int _oldgetSource()
+	{
+		return _oldsource;
+	}
+
+	public void _oldsetSource(int value)
+	{
+		this._oldsource = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public Timestamp _oldgetDt()
+	{
+		return _olddt;
+	}
+
+	public void _oldsetDt(Timestamp value)
+	{
+		this._olddt = value;
+	}
+
+	public void _oldsetDtNull()
+	{
+		this._oldsetDt(null);
+	}
+
+	public void setSourceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void _oldsetSourceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ExchangeRateChildData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.acmapCode = this.acmapCode;
+		copy.childNum = this.childNum;
+		copy.currency = this.currency;
+		copy.dt = this.dt;
+		copy.name = this.name;
+		copy.source = this.source;
+		copy._oldsource = this._oldsource;
+		copy._olddt = this._olddt;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ExchangeRateChildFinder.isFullCache());
+		this.childNum = in.readInt();
+		this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ExchangeRateChildFinder.isFullCache());
+		this.dt = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ExchangeRateChildFinder.isFullCache(), ExchangeRateChildFinder.isOffHeap());
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ExchangeRateChildFinder.isFullCache());
+		this.source = in.readInt();
+		this._oldsource = in.readInt();
+		this._olddt = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ExchangeRateChildFinder.isFullCache(), ExchangeRateChildFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ExchangeRateChildData otherData = (ExchangeRateChildData) other;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+		{
+			return false;
+		}
+
+		if (getChildNum() != otherData.getChildNum())
+		{
+			return false;
+		}
+
+		if (!isCurrencyNull() ? !getCurrency().equals(otherData.getCurrency()) : !otherData.isCurrencyNull())
+		{
+			return false;
+		}
+
+		if (!isDtNull() ? !getDt().equals(otherData.getDt()) : !otherData.isDtNull())
+		{
+			return false;
+		}
+
+		if (!isSourceNull() ? getSource() != otherData.getSource() : !otherData.isSourceNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.acmapCode);
+		out.writeInt(this.childNum);
+		out.writeObject(this.currency);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.dt);
+		out.writeInt(this.source);
+		out.writeInt(this._oldsource);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this._olddt);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ExchangeRateChildFinder.isFullCache());
+		this.childNum = in.readInt();
+		this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ExchangeRateChildFinder.isFullCache());
+		this.dt = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ExchangeRateChildFinder.isFullCache(), ExchangeRateChildFinder.isOffHeap());
+		this.source = in.readInt();
+		this._oldsource = in.readInt();
+		this._olddt = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ExchangeRateChildFinder.isFullCache(), ExchangeRateChildFinder.isOffHeap());
+		this._olddt = TimestampPool.getInstance().getOrAddToCache(this._olddt, ExchangeRateChildFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getParent()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setParent(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSetUpdated()
+	{
+		this._oldsource = this.source;
+		if (this.isSourceNull()) isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		else isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		this._olddt = this.dt;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ExchangeRateChildData exchangeRateChildData = (ExchangeRateChildData) newData;
+		this.setAcmapCode(exchangeRateChildData.getAcmapCode());
+		this.setName(exchangeRateChildData.getName());
+	}
+
+	public boolean zAnyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zAnyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zAnyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		boolean result = zMutablePrimaryKeyAttributesChanged(newData);
+		if(result) return true;
+		return zNonPrimaryKeyAttributesChanged(newData, toleranceForFloatingPointFields);
+	}
+
+	public boolean zMutablePrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		final ExchangeRateChildData exchangeRateChildData = (ExchangeRateChildData) newData;
+		if (isSourceNull())
+		{
+			if(!exchangeRateChildData.isSourceNull())
+			{
+				return true;
+			}
+		}
+		else
+		if (exchangeRateChildData.isSourceNull() || getSource() != exchangeRateChildData.getSource())
+		{
+			return true;
+		}
+
+		if (!isDtNull() ? !getDt().equals(exchangeRateChildData.getDt()) : !exchangeRateChildData.isDtNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ExchangeRateChildData other = (ExchangeRateChildData) newData;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ExchangeRateChildData copy = new ExchangeRateChildData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ExchangeRateChildData copy = new ExchangeRateChildData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+		result += "childNum: "+(""+getChildNum())+ " / ";
+		result += "currency: "+"'"+getCurrency()+"'"+ " / ";
+		result += "dt: "+(isDtNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getDt().getTime()))+ " / ";
+		result += "source: "+(isSourceNull() ? "null" : (""+getSource()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ExchangeRateChildData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zAnyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		final ExchangeRateChildData exchangeRateChildData = (ExchangeRateChildData) newData;
+		if (_oldisSourceNull() != exchangeRateChildData._oldisSourceNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ExchangeRateChildFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ExchangeRateChildFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ExchangeRateChildData";
+	}
+}
@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ExchangeRateChildListAbstract extends DelegatingList<ExchangeRateChild> implements MithraTransactionalList<ExchangeRateChild>
+{
+	public ExchangeRateChildListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ExchangeRateChildListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ExchangeRateChildListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ExchangeRateChildListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ExchangeRateChild[] elements()
+	{
+		ExchangeRateChild[] result = new ExchangeRateChild[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ExchangeRateChildList intersection(ExchangeRateChildList another)
+	{
+		return (ExchangeRateChildList)super.intersection(another);
+	}
+
+	public ExchangeRateChild getExchangeRateChildAt(int index)
+	{
+		return (ExchangeRateChild)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(ExchangeRate.currency = this.currency and ExchangeRate.source = this.source and ExchangeRate.date = this.dt )</pre>
+	* @see ExchangeRate#getChildren() reverse relationship ExchangeRate.getChildren()
+	* @return The parent
+	*/
+	public ExchangeRateList getParents()
+	{
+		return (ExchangeRateList) this.zGetDelegated().resolveRelationship(this, ExchangeRateChildFinder.parent());
+	}
+
+	public void zSetParentContainerparent(ExchangeRateAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ExchangeRateChild item = this.getExchangeRateChildAt(i);
+			item.zSetParentContainerparent(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ExchangeRateChildFinder.getMithraObjectPortal();
+	}
+
+	public ExchangeRateChildList getNonPersistentCopy()
+	{
+		ExchangeRateChildList result = new ExchangeRateChildList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ExchangeRateChildList asAdhoc()
+	{
+		return (ExchangeRateChildList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ExchangeRateChild> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ExchangeRateChildList merge(MithraTransactionalList<ExchangeRateChild> incoming, TopLevelMergeOptions<ExchangeRateChild> mergeOptions)
+	{
+		return (ExchangeRateChildList) super.merge(incoming, mergeOptions);
+	}
+
+	public ExchangeRateChildList getDetachedCopy()
+	{
+		ExchangeRateChildList result = new ExchangeRateChildList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setChildNum(int newValue)
+	{
+		zSetInteger(ExchangeRateChildFinder.childNum(), newValue);
+	}
+
+	public void setCurrency(String newValue)
+	{
+		zSetString(ExchangeRateChildFinder.currency(), newValue);
+	}
+
+	public void setSource(int newValue)
+	{
+		zSetInteger(ExchangeRateChildFinder.source(), newValue);
+	}
+
+	public void setDt(Timestamp newValue)
+	{
+		zSetTimestamp(ExchangeRateChildFinder.dt(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(ExchangeRateChildFinder.name(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ExchangeRateChildFinder.acmapCode(), newValue);
+	}
+
+	public void setSourceNull()
+	{
+		zSetAttributeNull(ExchangeRateChildFinder.source());
+	}
+}
@@ -0,0 +1,549 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ExchangeRateData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private String acmapCode;
+	private String currency;
+	private Timestamp date;
+	private double exchangeRate;
+	private int source;
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.getCurrency() == null;
+	}
+
+	public boolean isDateNull()
+	{
+		return this.getDate() == null;
+	}
+
+	public boolean isSourceNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isExchangeRateNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.acmapCode);
+		out.writeObject(this.currency);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.date);
+		out.writeDouble(this.exchangeRate);
+		out.writeInt(this.source);
+		out.writeInt(this._oldsource);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this._olddate);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	private int _oldsource;
+	private Timestamp _olddate;
+	public boolean _oldisDateNull()
+	{
+		return this._oldgetDate() == null;
+	}
+
+	public boolean _oldisSourceNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public int zGetAcmapCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(acmapCode);
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, ExchangeRateFinder.isFullCache());
+	}
+
+	public void setAcmapCodeNull()
+	{
+		this.setAcmapCode(null);
+	}
+
+	public String getCurrency()
+	{
+		return this.currency;
+	}
+
+	public int zGetCurrencyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(currency);
+	}
+
+	public void setCurrency(String value)
+	{
+		this.currency = StringPool.getInstance().getOrAddToCache(value, ExchangeRateFinder.isFullCache());
+	}
+
+	public void setCurrencyNull()
+	{
+		this.setCurrency(null);
+	}
+
+	public Timestamp getDate()
+	{
+		return this.date;
+	}
+
+	public long zGetDateAsLong()
+	{
+		if (date == null) return TimestampPool.OFF_HEAP_NULL;
+		return date.getTime();
+	}
+
+	public void setDate(Timestamp value)
+	{
+		this.date = TimestampPool.getInstance().getOrAddToCache(value, ExchangeRateFinder.isFullCache(), ExchangeRateFinder.isOffHeap());
+	}
+
+	public void setDateNull()
+	{
+		this.setDate(null);
+	}
+
+	public double getExchangeRate()
+	{
+		return this.exchangeRate;
+	}
+
+	public void setExchangeRate(double value)
+	{
+		this.exchangeRate = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getSource()
+	{
+		return this.source;
+	}
+
+	public void setSource(int value)
+	{
+		this.source = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int _oldgetSource()
+	{
+		return _oldsource;
+	}
+
+	public void _oldsetSource(int value)
+	{
+		this._oldsource = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public Timestamp _oldgetDate()
+	{
+		return _olddate;
+	}
+
+	public void _oldsetDate(Timestamp value)
+	{
+		this._olddate = value;
+	}
+
+	public void _oldsetDateNull()
+	{
+		this._oldsetDate(null);
+	}
+
+	public void setSourceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setExchangeRateNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void _oldsetSourceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ExchangeRateData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.acmapCode = this.acmapCode;
+		copy.currency = this.currency;
+		copy.date = this.date;
+		copy.exchangeRate = this.exchangeRate;
+		copy.source = this.source;
+		copy._oldsource = this._oldsource;
+		copy._olddate = this._olddate;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ExchangeRateFinder.isFullCache());
+		this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ExchangeRateFinder.isFullCache());
+		this.date = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ExchangeRateFinder.isFullCache(), ExchangeRateFinder.isOffHeap());
+		this.exchangeRate = in.readDouble();
+		this.source = in.readInt();
+		this._oldsource = in.readInt();
+		this._olddate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ExchangeRateFinder.isFullCache(), ExchangeRateFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ExchangeRateData otherData = (ExchangeRateData) other;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+		{
+			return false;
+		}
+
+		if (!isCurrencyNull() ? !getCurrency().equals(otherData.getCurrency()) : !otherData.isCurrencyNull())
+		{
+			return false;
+		}
+
+		if (!isDateNull() ? !getDate().equals(otherData.getDate()) : !otherData.isDateNull())
+		{
+			return false;
+		}
+
+		if (!isSourceNull() ? getSource() != otherData.getSource() : !otherData.isSourceNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.acmapCode);
+		out.writeObject(this.currency);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.date);
+		out.writeInt(this.source);
+		out.writeInt(this._oldsource);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this._olddate);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ExchangeRateFinder.isFullCache());
+		this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ExchangeRateFinder.isFullCache());
+		this.date = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ExchangeRateFinder.isFullCache(), ExchangeRateFinder.isOffHeap());
+		this.source = in.readInt();
+		this._oldsource = in.readInt();
+		this._olddate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ExchangeRateFinder.isFullCache(), ExchangeRateFinder.isOffHeap());
+		this._olddate = TimestampPool.getInstance().getOrAddToCache(this._olddate, ExchangeRateFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getChildren()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setChildren(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSetUpdated()
+	{
+		this._oldsource = this.source;
+		if (this.isSourceNull()) isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+		else isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+		this._olddate = this.date;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ExchangeRateData exchangeRateData = (ExchangeRateData) newData;
+		this.setAcmapCode(exchangeRateData.getAcmapCode());
+		this.setExchangeRate(exchangeRateData.getExchangeRate());
+		if (exchangeRateData.isExchangeRateNull()) this.setExchangeRateNull();
+	}
+
+	public boolean zAnyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zAnyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zAnyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		boolean result = zMutablePrimaryKeyAttributesChanged(newData);
+		if(result) return true;
+		return zNonPrimaryKeyAttributesChanged(newData, toleranceForFloatingPointFields);
+	}
+
+	public boolean zMutablePrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		final ExchangeRateData exchangeRateData = (ExchangeRateData) newData;
+		if (isSourceNull())
+		{
+			if(!exchangeRateData.isSourceNull())
+			{
+				return true;
+			}
+		}
+		else
+		if (exchangeRateData.isSourceNull() || getSource() != exchangeRateData.getSource())
+		{
+			return true;
+		}
+
+		if (!isDateNull() ? !getDate().equals(exchangeRateData.getDate()) : !exchangeRateData.isDateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ExchangeRateData other = (ExchangeRateData) newData;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		if ( isExchangeRateNull() != other.isExchangeRateNull() || Math.abs(getExchangeRate() - other.getExchangeRate()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ExchangeRateData copy = new ExchangeRateData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ExchangeRateData copy = new ExchangeRateData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+		result += "currency: "+"'"+getCurrency()+"'"+ " / ";
+		result += "date: "+(isDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getDate().getTime()))+ " / ";
+		result += "source: "+(isSourceNull() ? "null" : (""+getSource()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ExchangeRateData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zAnyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		final ExchangeRateData exchangeRateData = (ExchangeRateData) newData;
+		if (_oldisSourceNull() != exchangeRateData._oldisSourceNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ExchangeRateFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ExchangeRateFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ExchangeRateData";
+	}
+}
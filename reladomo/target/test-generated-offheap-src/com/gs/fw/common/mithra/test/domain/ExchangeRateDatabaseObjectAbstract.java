@@ -0,0 +1,506 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ExchangeRateDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "EXCH_RATE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.EXCH_RATE";
+	private static final String PK_WITH_ALIAS = "t0.PROD_CURRENCY_C = ? AND t0.SOURCE_I = ? AND t0.THRU_Z = ?";
+	private static final String PK_INDEX_COLS = "PROD_CURRENCY_C,SOURCE_I,THRU_Z";
+	protected ExchangeRateDatabaseObjectAbstract()
+	{
+		super("ExchangeRate", "com.gs.fw.common.mithra.test.domain.ExchangeRateFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, true, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ExchangeRateFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ExchangeRateFinder.getFinderInstance();
+	}
+
+	public static ExchangeRateData allocateOnHeapData()
+	{
+		return new ExchangeRateData();
+	}
+
+	public static ExchangeRateData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ExchangeRateData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ExchangeRateData data = new ExchangeRateData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(ExchangeRateFinder.getPrimaryKeyAttributes(), this, ExchangeRateFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(ExchangeRateFinder.getPrimaryKeyAttributes(), this, ExchangeRateFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(ExchangeRateFinder.getPrimaryKeyAttributes(), this, ExchangeRateFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(ExchangeRateFinder.getPrimaryKeyAttributes(), this, ExchangeRateFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ExchangeRateFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ExchangeRateFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ExchangeRate.zConfigFullTx();
+		}
+		else
+		{
+			ExchangeRate.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		ExchangeRateData data = (ExchangeRateData)object;
+		return data.getAcmapCode();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateExchangeRateData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkExchangeRateData(1, (ExchangeRateData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateExchangeRatePkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getExchangeRateTableName(((String)source));
+	}
+
+	public String getExchangeRateTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ExchangeRateData data = (ExchangeRateData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getCurrency());
+		if( ! data._oldisSourceNull())
+		{
+			stm.setInt(pos++, data._oldgetSource());
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data._oldgetDate(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "PROD_CURRENCY_C = ? AND SOURCE_I = ? AND THRU_Z = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		ExchangeRateData data = (ExchangeRateData) dataObj;
+		StringBuffer result = new StringBuffer();
+		result.append(" PROD_CURRENCY_C = ? ");
+		if( data._oldisSourceNull())
+		{
+			result.append(" AND ");
+			result.append(" SOURCE_I IS NULL ");
+		}
+		else
+		{
+			result.append(" AND ");
+			result.append(" SOURCE_I = ? ");
+		}
+
+		result.append(" AND ");
+		result.append(" THRU_Z = ? ");
+		return result.toString();
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		ExchangeRateData data = (ExchangeRateData) dataObj;
+		StringBuilder result = new StringBuilder();
+		result.append(" t0.");
+		result.append("PROD_CURRENCY_C = ? ");
+		if( data._oldisSourceNull())
+		{
+			result.append(" AND");
+			result.append(" t0.");
+			result.append("SOURCE_I IS NULL ");
+		}
+		else
+		{
+			result.append(" AND");
+			result.append(" t0.");
+			result.append("SOURCE_I = ? ");
+		}
+
+		result.append(" AND");
+		result.append(" t0.");
+		result.append("THRU_Z = ? ");
+		return result.toString();
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.PROD_CURRENCY_C,t0.SOURCE_I,t0.THRU_Z,t0.EXCH_RATE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("PROD_CURRENCY_C");
+		result.append(",").append(databaseAlias).append(".").append("SOURCE_I");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("EXCH_RATE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ExchangeRateData inflateExchangeRateData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		ExchangeRateData data = inflateExchangeRatePkData(rs, dt, sourceAttribute);
+		inflateNonPkExchangeRateData(4, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public ExchangeRateData inflateExchangeRatePkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		ExchangeRateData _data = new ExchangeRateData();
+		int _pos = 1;
+		_data.setAcmapCode(sourceAttribute);
+		_data.setCurrency(trimString(_rs.getString(_pos++)));
+		_data.setSource(_rs.getInt(_pos++));
+		_data._oldsetSource(_data.getSource());
+		if (_rs.wasNull())
+		{
+			_data.setSourceNull();
+			_data._oldsetSourceNull();
+		}
+
+		Timestamp datetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setDate(datetimestampValue);
+		_data._oldsetDate(datetimestampValue);
+		return _data;
+	}
+
+	public void inflateNonPkExchangeRateData(int _pos, ExchangeRateData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			ExchangeRateData _data = _datax;
+			_data.setExchangeRate(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setExchangeRateNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "FXRATE";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ExchangeRateData data = (ExchangeRateData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isCurrencyNull())
+		{
+			throwNullAttribute("currency");
+		}
+
+		stm.setString(pos++, data.getCurrency());
+		if (data.isSourceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getSource());
+		}
+
+		if(data.isDateNull())
+		{
+			throwNullAttribute("date");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getDate(), false, conversionTimeZone);
+		pos++;
+		if (data.isExchangeRateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getExchangeRate());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "PROD_CURRENCY_C,SOURCE_I,THRU_Z,EXCH_RATE";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ExchangeRate newObject = new ExchangeRate();
+		newObject.zSetFromExchangeRateData((ExchangeRateData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.PROD_CURRENCY_C,t0.SOURCE_I,t0.THRU_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("PROD_CURRENCY_C");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SOURCE_I");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("THRU_Z");
+		return result.toString();
+	}
+}
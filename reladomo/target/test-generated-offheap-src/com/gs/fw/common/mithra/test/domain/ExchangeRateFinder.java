@@ -0,0 +1,984 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ExchangeRateFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ExchangeRate";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ExchangeRate";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ExchangeRate");
+	private static final ExchangeRateSingleFinder<ExchangeRate, Object, ExchangeRate> finder = new ExchangeRateSingleFinder<ExchangeRate, Object, ExchangeRate>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ExchangeRateFinder.ExchangeRateRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("currency");
+		finderMethodMap.addNormalAttributeName("source");
+		finderMethodMap.addNormalAttributeName("date");
+		finderMethodMap.addNormalAttributeName("exchangeRate");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addRelationshipName("children");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = ExchangeRateFinder.currency().constructEqualityMapper(ExchangeRateChildFinder.currency());
+			result[1] = ExchangeRateChildFinder.currency().constructEqualityMapper(ExchangeRateFinder.currency());
+			result[2] = ExchangeRateFinder.source().constructEqualityMapper(ExchangeRateChildFinder.source());
+			result[3] = ExchangeRateChildFinder.source().constructEqualityMapper(ExchangeRateFinder.source());
+			result[4] = ExchangeRateFinder.date().constructEqualityMapper(ExchangeRateChildFinder.dt());
+			result[5] = ExchangeRateChildFinder.dt().constructEqualityMapper(ExchangeRateFinder.date());
+			result[6] = ExchangeRateFinder.acmapCode().constructEqualityMapper(ExchangeRateChildFinder.acmapCode());
+			result[7] = ExchangeRateChildFinder.acmapCode().constructEqualityMapper(ExchangeRateFinder.acmapCode());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = ExchangeRateFinder.currency().eq("EUR");
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return ExchangeRateFinder.zSourceAttributeType;
+	}
+
+	public static ExchangeRate findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ExchangeRate findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ExchangeRateList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ExchangeRateList) finder.findMany(operation);
+	}
+
+	public static ExchangeRateList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ExchangeRateList) finder.findManyBypassCache(operation);
+	}
+
+	private static ExchangeRate findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ExchangeRate) FinderUtils.findOne(found);
+	}
+
+	public static ExchangeRate findByPrimaryKey(String currency, int source, Timestamp date, String acmapCode)
+	{
+		return finder.findByPrimaryKey(currency, source, date, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ExchangeRateData _castedTargetData = (ExchangeRateData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getCurrency()) && _bean.getI1AsInteger() == _castedTargetData.getSource() && _bean.getO2AsTimestamp().equals(_castedTargetData.getDate()) && _bean.getO3AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getO2AsTimestamp())),HashUtil.hash(_bean.getO3AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getO2AsTimestamp())),HashUtil.offHeapHash(_bean.getO3AsString()));
+		}
+	}
+
+	public static ExchangeRate zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ExchangeRate) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ExchangeRateRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ExchangeRate, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return ExchangeRateFinder.zSourceAttributeType;
+		}
+
+		private StringAttribute<ParentOwnerType> currency;
+		private IntegerAttribute<ParentOwnerType> source;
+		private TimestampAttribute<ParentOwnerType> date;
+		private DoubleAttribute<ParentOwnerType> exchangeRate;
+		private ExchangeRateChildrenFinderSubclass<ParentOwnerType> children;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		public ExchangeRateRelatedFinder()
+		{
+			super();
+		}
+
+		public ExchangeRateRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ExchangeRateFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ExchangeRateFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ExchangeRateFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ExchangeRateFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.currency();
+			attributes[1] = this.source();
+			attributes[2] = this.date();
+			attributes[3] = this.exchangeRate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.children());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.children());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ExchangeRate findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ExchangeRateFinder.findOne(operation, false);
+		}
+
+		public ExchangeRate findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ExchangeRateFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ExchangeRate> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ExchangeRateList((Operation) operation);
+		}
+
+		public MithraList<? extends ExchangeRate> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ExchangeRateList result = (ExchangeRateList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ExchangeRate> constructEmptyList()
+		{
+			return new ExchangeRateList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1737985565;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return ExchangeRateFinder.zSourceAttributeType;
+		}
+
+		public StringAttribute<ParentOwnerType> currency()
+		{
+			StringAttribute<ParentOwnerType> result = this.currency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_CURRENCY_C","","currency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,3,true, false) :
+					new MappedStringAttribute(ExchangeRateFinder.currency(), this.mapper, this.zGetValueSelector());
+				this.currency = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> source()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.source;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SOURCE_I","","source",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, true) :
+					new MappedIntegerAttribute(ExchangeRateFinder.source(), this.mapper, this.zGetValueSelector());
+				this.source = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> date()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.date;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","date",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, true) :
+					new MappedTimestampAttribute(ExchangeRateFinder.date(), this.mapper, this.zGetValueSelector());
+				this.date = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> exchangeRate()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.exchangeRate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("EXCH_RATE","","exchangeRate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ExchangeRateFinder.exchangeRate(), this.mapper, this.zGetValueSelector());
+				this.exchangeRate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(ExchangeRateFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public ExchangeRateChildFinder.ExchangeRateChildCollectionFinderForRelatedClasses<ParentOwnerType, ExchangeRateChildList, ExchangeRate> children()
+		{
+			ExchangeRateChildrenFinderSubclass<ParentOwnerType> result = this.children;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ExchangeRateFinder.zGetExchangeRateChildrenReverseMapper());
+				newMapper.setToMany(true);
+				result = new ExchangeRateChildrenFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.children = result;
+			}
+
+			return result;
+		}
+
+		public ExchangeRateChildFinder.ExchangeRateChildSingleFinderForRelatedClasses<ParentOwnerType, ExchangeRateChild, ExchangeRate> specificChild(int source)
+		{
+			ExchangeRateSpecificChildFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(ExchangeRateFinder.zGetExchangeRateSpecificChildReverseMapper(source));
+			newMapper.setToMany(false);
+			result = new ExchangeRateSpecificChildFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,source);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return ExchangeRateFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ExchangeRateFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ExchangeRateFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ExchangeRateCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ExchangeRateRelatedFinder<ParentOwnerType, ReturnType, ExchangeRateList, OwnerType>
+	{
+		public ExchangeRateCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ExchangeRateCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ExchangeRateCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ExchangeRateCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ExchangeRateSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ExchangeRateRelatedFinder<ParentOwnerType, ReturnType, ExchangeRateList, OwnerType>
+	implements ToOneFinder
+	{
+		public ExchangeRateSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ExchangeRateSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ExchangeRate other)
+		{
+			return this.currency().eq(other.getCurrency())
+			.and(this.source().eq(other.getSource()))
+			.and(this.date().eq(other.getDate()))
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ExchangeRate findByPrimaryKey(String currency, int source, Timestamp date, String acmapCode)
+		{
+			ExchangeRate _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (currency != null && date != null && acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(currency);
+				_bean.setI1AsInteger(source);
+				_bean.setO2(date);
+				_bean.setO3(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ExchangeRate) _related;
+			if (_related == null)
+			{
+				_op = this.currency().eq(currency).and(this.source().eq(source)).and(this.date().eq(date)).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ExchangeRateSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ExchangeRateSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ExchangeRateSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper childrenReverseMapper = null;
+	public static Mapper zGetExchangeRateChildrenReverseMapper()
+	{
+		if (childrenReverseMapper == null)
+		{
+			childrenReverseMapper = zConstructExchangeRateChildrenReverseMapper();
+		}
+
+		return childrenReverseMapper;
+	}
+
+	private static Mapper childrenMapper = null;
+	public static Mapper zGetExchangeRateChildrenMapper()
+	{
+		if (childrenMapper == null)
+		{
+			childrenMapper = zConstructExchangeRateChildrenMapper();
+		}
+
+		return childrenMapper;
+	}
+
+	private static Mapper childrenPureReverseMapper = null;
+	public static Mapper zGetExchangeRateChildrenPureReverseMapper()
+	{
+		if (childrenPureReverseMapper == null)
+		{
+			childrenPureReverseMapper = zConstructExchangeRateChildrenPureReverseMapper();
+		}
+
+		return childrenPureReverseMapper;
+	}
+
+	private static Mapper zConstructExchangeRateChildrenPureReverseMapper()
+	{
+		InternalList childrenMapperMapperList = new InternalList(4);
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(0));
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(2));
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(4));
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(6));
+		Mapper childrenMapper = new MultiEqualityMapper(childrenMapperMapperList);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructExchangeRateChildrenReverseMapper()
+	{
+		InternalList childrenMapperMapperList = new InternalList(4);
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(0));
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(2));
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(4));
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(6));
+		Mapper childrenMapper = new MultiEqualityMapper(childrenMapperMapperList);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructExchangeRateChildrenMapper()
+	{
+		InternalList childrenMapperMapperList = new InternalList(4);
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(1));
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(3));
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(5));
+		childrenMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(7));
+		Mapper childrenMapper = new MultiEqualityMapper(childrenMapperMapperList);
+		childrenMapper.setName("parent");
+		return childrenMapper;
+	}
+
+	public static Mapper zGetExchangeRateSpecificChildReverseMapper(int source)
+	{
+		return zConstructExchangeRateSpecificChildReverseMapper(source);
+	}
+
+	public static Mapper zGetExchangeRateSpecificChildMapper(int source)
+	{
+		return zConstructExchangeRateSpecificChildMapper(source);
+	}
+
+	private static Mapper specificChildPureReverseMapper = null;
+	public static Mapper zGetExchangeRateSpecificChildPureReverseMapper()
+	{
+		if (specificChildPureReverseMapper == null)
+		{
+			specificChildPureReverseMapper = zConstructExchangeRateSpecificChildPureReverseMapper();
+		}
+
+		return specificChildPureReverseMapper;
+	}
+
+	private static Mapper zConstructExchangeRateSpecificChildPureReverseMapper()
+	{
+		InternalList specificChildMapperMapperList = new InternalList(3);
+		specificChildMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(0));
+		specificChildMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(4));
+		specificChildMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(6));
+		Mapper specificChildMapper = new MultiEqualityMapper(specificChildMapperMapperList);
+		specificChildMapper.setName("specificChild");
+		return specificChildMapper;
+	}
+
+	private static Mapper zConstructExchangeRateSpecificChildReverseMapper(int source)
+	{
+		InternalList specificChildMapperInnerMapperMapperList = new InternalList(3);
+		specificChildMapperInnerMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(0));
+		specificChildMapperInnerMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(4));
+		specificChildMapperInnerMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(6));
+		Mapper specificChildMapperInnerMapper = new MultiEqualityMapper(specificChildMapperInnerMapperMapperList);
+		Mapper specificChildMapper = new FilteredMapper(specificChildMapperInnerMapper, null, ExchangeRateChildFinder.zGetConstantOperation(0).and(ExchangeRateChildFinder.source().eq(source)));
+		specificChildMapper.setName("specificChild");
+		return specificChildMapper;
+	}
+
+	private static Mapper zConstructExchangeRateSpecificChildMapper(int source)
+	{
+		InternalList specificChildMapperInnerMapperMapperList = new InternalList(3);
+		specificChildMapperInnerMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(1));
+		specificChildMapperInnerMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(5));
+		specificChildMapperInnerMapperMapperList.add(ExchangeRateFinder.zGetConstantJoin(7));
+		Mapper specificChildMapperInnerMapper = new MultiEqualityMapper(specificChildMapperInnerMapperMapperList);
+		Mapper specificChildMapper = new FilteredMapper(specificChildMapperInnerMapper, ExchangeRateChildFinder.zGetConstantOperation(0).and(ExchangeRateChildFinder.source().eq(source)), null);
+		specificChildMapper.setName("specificChild_Reverse");
+		return specificChildMapper;
+	}
+
+	/** maps to FXRATE.PROD_CURRENCY_C **/
+	public static StringAttribute<ExchangeRate> currency()
+	{
+		return finder.currency();
+	}
+
+	/** maps to FXRATE.SOURCE_I **/
+	public static IntegerAttribute<ExchangeRate> source()
+	{
+		return finder.source();
+	}
+
+	/** maps to FXRATE.THRU_Z **/
+	public static TimestampAttribute<ExchangeRate> date()
+	{
+		return finder.date();
+	}
+
+	/** maps to FXRATE.EXCH_RATE **/
+	public static DoubleAttribute<ExchangeRate> exchangeRate()
+	{
+		return finder.exchangeRate();
+	}
+
+	public static StringAttribute<ExchangeRate> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static ExchangeRateChildFinder.ExchangeRateChildCollectionFinderForRelatedClasses<ExchangeRate, ExchangeRateChildList, ExchangeRate> children()
+	{
+		return finder.children();
+	}
+
+	public static class ExchangeRateChildrenFinderSubclass<ParentOwnerType> extends ExchangeRateChildFinder.ExchangeRateChildCollectionFinderForRelatedClasses<ParentOwnerType, ExchangeRateChildList, ExchangeRate>
+	{
+		public ExchangeRateChildrenFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "children";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ExchangeRateChildFinder.acmapCode(),
+				ExchangeRateChildFinder.currency(),
+				ExchangeRateChildFinder.dt(),
+				ExchangeRateChildFinder.source()).withExtractors(
+				ExchangeRateFinder.acmapCode(),
+				ExchangeRateFinder.currency(),
+				ExchangeRateFinder.date(),
+				ExchangeRateFinder.source()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ExchangeRateChildrenFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((ExchangeRate) _obj).isChildrenModifiedSinceDetachment();
+		}
+
+		protected ExchangeRateChildList plainValueOf(ExchangeRate _obj)
+		{
+			return _obj.getChildren();
+		}
+
+		protected ExchangeRateChildList plainListValueOf(Object _obj)
+		{
+			return ((ExchangeRateList)_obj).getChildren();
+		}
+	}
+
+	public static ExchangeRateChildFinder.ExchangeRateChildSingleFinderForRelatedClasses<ExchangeRate, ExchangeRateChild, ExchangeRate> specificChild(int source)
+	{
+		return finder.specificChild(source);
+	}
+
+	public static class ExchangeRateSpecificChildFinderSubclass<ParentOwnerType> extends ExchangeRateChildFinder.ExchangeRateChildSingleFinderForRelatedClasses<ParentOwnerType, ExchangeRateChild, ExchangeRate>
+	{
+		private int source;
+		public ExchangeRateSpecificChildFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int source)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.source = source;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "specificChild";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ExchangeRateSpecificChildFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.source
+			);
+		}
+
+		protected ExchangeRateChild plainValueOf(ExchangeRate _obj)
+		{
+			return _obj.getSpecificChild(source);
+		}
+
+		protected ExchangeRateChildList plainListValueOf(Object _obj)
+		{
+			return ((ExchangeRateList)_obj).getSpecificChilds(source);
+		}
+	}
+
+	public static Operation eq(ExchangeRate other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(currency());
+	}
+
+	public static ExchangeRateSingleFinder<ExchangeRate, Object, ExchangeRate> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			currency()
+			, source()
+			, date()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			currency()
+			, currency()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			acmapCode()
+			, currency()
+			, date()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setUseMultiUpdate(false);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setUseMultiUpdate(false);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = exchangeRate();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ExchangeRate");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
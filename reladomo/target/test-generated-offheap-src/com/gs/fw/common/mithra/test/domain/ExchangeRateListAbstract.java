@@ -0,0 +1,188 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ExchangeRateListAbstract extends DelegatingList<ExchangeRate> implements MithraTransactionalList<ExchangeRate>
+{
+	public ExchangeRateListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ExchangeRateListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ExchangeRateListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ExchangeRateListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ExchangeRate[] elements()
+	{
+		ExchangeRate[] result = new ExchangeRate[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ExchangeRateList intersection(ExchangeRateList another)
+	{
+		return (ExchangeRateList)super.intersection(another);
+	}
+
+	public ExchangeRate getExchangeRateAt(int index)
+	{
+		return (ExchangeRate)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.currency = ExchangeRateChild.currency and this.source = ExchangeRateChild.source and
+	this.date = ExchangeRateChild.dt</pre>
+	* @see ExchangeRateChild#getParent() reverse relationship ExchangeRateChild.getParent()
+	* @return children
+	*/
+	public ExchangeRateChildList getChildren()
+	{
+		return (ExchangeRateChildList) this.zGetDelegated().resolveRelationship(this, ExchangeRateFinder.children());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.currency = ExchangeRateChild.currency and ExchangeRateChild.childNum = 0 and
+	this.date = ExchangeRateChild.dt and ExchangeRateChild.source = {source}</pre>
+	* @return The specific child
+	*/
+	public ExchangeRateChildList getSpecificChilds(int source)
+	{
+		return (ExchangeRateChildList) this.zGetDelegated().resolveRelationship(this, ExchangeRateFinder.specificChild(source));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ExchangeRateFinder.getMithraObjectPortal();
+	}
+
+	public ExchangeRateList getNonPersistentCopy()
+	{
+		ExchangeRateList result = new ExchangeRateList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ExchangeRateList asAdhoc()
+	{
+		return (ExchangeRateList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ExchangeRate> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ExchangeRateList merge(MithraTransactionalList<ExchangeRate> incoming, TopLevelMergeOptions<ExchangeRate> mergeOptions)
+	{
+		return (ExchangeRateList) super.merge(incoming, mergeOptions);
+	}
+
+	public ExchangeRateList getDetachedCopy()
+	{
+		ExchangeRateList result = new ExchangeRateList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCurrency(String newValue)
+	{
+		zSetString(ExchangeRateFinder.currency(), newValue);
+	}
+
+	public void setSource(int newValue)
+	{
+		zSetInteger(ExchangeRateFinder.source(), newValue);
+	}
+
+	public void setDate(Timestamp newValue)
+	{
+		zSetTimestamp(ExchangeRateFinder.date(), newValue);
+	}
+
+	public void setExchangeRate(double newValue)
+	{
+		zSetDouble(ExchangeRateFinder.exchangeRate(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ExchangeRateFinder.acmapCode(), newValue);
+	}
+
+	public void setSourceNull()
+	{
+		zSetAttributeNull(ExchangeRateFinder.source());
+	}
+
+	public void setExchangeRateNull()
+	{
+		zSetAttributeNull(ExchangeRateFinder.exchangeRate());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getChildren()).cascadeDeleteAll();
+	}
+}
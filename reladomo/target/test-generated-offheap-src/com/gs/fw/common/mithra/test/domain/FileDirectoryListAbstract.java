@@ -0,0 +1,262 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class FileDirectoryListAbstract extends DelegatingList<FileDirectory> implements MithraTransactionalList<FileDirectory>
+{
+	public FileDirectoryListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public FileDirectoryListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public FileDirectoryListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public FileDirectoryListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public FileDirectory[] elements()
+	{
+		FileDirectory[] result = new FileDirectory[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public FileDirectoryList intersection(FileDirectoryList another)
+	{
+		return (FileDirectoryList)super.intersection(another);
+	}
+
+	public FileDirectory getFileDirectoryAt(int index)
+	{
+		return (FileDirectory)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.fileDirectoryId = FileDirectory.parentDirectoryId</pre>
+	* @see FileDirectory#getParentDirectory() reverse relationship FileDirectory.getParentDirectory()
+	* @return child directories
+	*/
+	public FileDirectoryList getChildDirectories()
+	{
+		return (FileDirectoryList) this.zGetDelegated().resolveRelationship(this, FileDirectoryFinder.childDirectories());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.parentDirectoryId = FileDirectory.fileDirectoryId and this.note = FileDirectory.note</pre>
+	* @return The parent directory with same note
+	*/
+	public FileDirectoryList getParentDirectoryWithSameNotes()
+	{
+		return (FileDirectoryList) this.zGetDelegated().resolveRelationship(this, FileDirectoryFinder.parentDirectoryWithSameNote());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.parentDirectoryId = FileDirectory.fileDirectoryId and this.someOtherTimestamp = FileDirectory.someOtherTimestamp</pre>
+	* @return The parent directory with same other timestamp
+	*/
+	public FileDirectoryList getParentDirectoryWithSameOtherTimestamps()
+	{
+		return (FileDirectoryList) this.zGetDelegated().resolveRelationship(this, FileDirectoryFinder.parentDirectoryWithSameOtherTimestamp());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.parentDirectoryId = FileDirectory.fileDirectoryId and this.someOtherDate = FileDirectory.someOtherDate</pre>
+	* @return The parent directory with same other date
+	*/
+	public FileDirectoryList getParentDirectoryWithSameOtherDates()
+	{
+		return (FileDirectoryList) this.zGetDelegated().resolveRelationship(this, FileDirectoryFinder.parentDirectoryWithSameOtherDate());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.fileDirectoryId = FileDirectory.parentDirectoryId and this.isDirectory = 1
+	and FileDirectory.isDirectory = 1</pre>
+	* @return just child directories
+	*/
+	public FileDirectoryList getJustChildDirectories()
+	{
+		return (FileDirectoryList) this.zGetDelegated().resolveRelationship(this, FileDirectoryFinder.justChildDirectories());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(FileDirectory.drive = this.drive and FileDirectory.fileDirectoryId = this.parentDirectoryId )</pre>
+	* @see FileDirectory#getChildDirectories() reverse relationship FileDirectory.getChildDirectories()
+	* @return The parent directory
+	*/
+	public FileDirectoryList getParentDirectories()
+	{
+		return (FileDirectoryList) this.zGetDelegated().resolveRelationship(this, FileDirectoryFinder.parentDirectory());
+	}
+
+	public void zSetParentContainerparentDirectory(FileDirectoryAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			FileDirectory item = this.getFileDirectoryAt(i);
+			item.zSetParentContainerparentDirectory(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return FileDirectoryFinder.getMithraObjectPortal();
+	}
+
+	public FileDirectoryList getNonPersistentCopy()
+	{
+		FileDirectoryList result = new FileDirectoryList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public FileDirectoryList asAdhoc()
+	{
+		return (FileDirectoryList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<FileDirectory> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public FileDirectoryList merge(MithraTransactionalList<FileDirectory> incoming, TopLevelMergeOptions<FileDirectory> mergeOptions)
+	{
+		return (FileDirectoryList) super.merge(incoming, mergeOptions);
+	}
+
+	public FileDirectoryList getDetachedCopy()
+	{
+		FileDirectoryList result = new FileDirectoryList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setFileDirectoryId(int newValue)
+	{
+		zSetInteger(FileDirectoryFinder.fileDirectoryId(), newValue);
+	}
+
+	public void setCreationDate(Timestamp newValue)
+	{
+		zSetTimestamp(FileDirectoryFinder.creationDate(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(FileDirectoryFinder.name(), newValue);
+	}
+
+	public void setDrive(String newValue)
+	{
+		zSetString(FileDirectoryFinder.drive(), newValue);
+	}
+
+	public void setModificationDate(Date newValue)
+	{
+		zSetDate(FileDirectoryFinder.modificationDate(), newValue);
+	}
+
+	public void setParentDirectoryId(int newValue)
+	{
+		zSetInteger(FileDirectoryFinder.parentDirectoryId(), newValue);
+	}
+
+	public void setNote(String newValue)
+	{
+		zSetString(FileDirectoryFinder.note(), newValue);
+	}
+
+	public void setSomeOtherTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(FileDirectoryFinder.someOtherTimestamp(), newValue);
+	}
+
+	public void setIsDirectory(int newValue)
+	{
+		zSetInteger(FileDirectoryFinder.isDirectory(), newValue);
+	}
+
+	public void setSomeOtherDate(Date newValue)
+	{
+		zSetDate(FileDirectoryFinder.someOtherDate(), newValue);
+	}
+
+	public void setParentDirectoryIdNull()
+	{
+		zSetAttributeNull(FileDirectoryFinder.parentDirectoryId());
+	}
+
+	public void setIsDirectoryNull()
+	{
+		zSetAttributeNull(FileDirectoryFinder.isDirectory());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getChildDirectories()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,858 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class FirmFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Firm";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Firm";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Firm");
+	private static final FirmSingleFinder<Firm, Object, Firm> finder = new FirmSingleFinder<Firm, Object, Firm>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(FirmFinder.FirmRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("legalName");
+		finderMethodMap.addNormalAttributeName("ceoId");
+		finderMethodMap.addRelationshipName("employees");
+		finderMethodMap.addRelationshipName("ceo");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = FirmFinder.id().constructEqualityMapper(PersonFinder.firmId());
+			result[1] = PersonFinder.firmId().constructEqualityMapper(FirmFinder.id());
+			result[2] = FirmFinder.ceoId().constructEqualityMapper(PersonFinder.firmId());
+			result[3] = PersonFinder.firmId().constructEqualityMapper(FirmFinder.ceoId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Firm findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Firm findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static FirmList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (FirmList) finder.findMany(operation);
+	}
+
+	public static FirmList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (FirmList) finder.findManyBypassCache(operation);
+	}
+
+	private static Firm findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Firm) FinderUtils.findOne(found);
+	}
+
+	public static Firm findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			FirmData _castedTargetData = (FirmData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Firm zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Firm) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class FirmRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Firm, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> legalName;
+		private IntegerAttribute<ParentOwnerType> ceoId;
+		private FirmEmployeesFinderSubclass<ParentOwnerType> employees;
+		private FirmCeoFinderSubclass<ParentOwnerType> ceo;
+		public FirmRelatedFinder()
+		{
+			super();
+		}
+
+		public FirmRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.FirmFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return FirmFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return FirmFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return FirmFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.id();
+			attributes[1] = this.legalName();
+			attributes[2] = this.ceoId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.employees());
+				relatedFinders.add(this.ceo());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Firm findOne(com.gs.fw.finder.Operation operation)
+		{
+			return FirmFinder.findOne(operation, false);
+		}
+
+		public Firm findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return FirmFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Firm> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new FirmList((Operation) operation);
+		}
+
+		public MithraList<? extends Firm> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			FirmList result = (FirmList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Firm> constructEmptyList()
+		{
+			return new FirmList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 965204251;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBJECTID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(FirmFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> legalName()
+		{
+			StringAttribute<ParentOwnerType> result = this.legalName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LEGAL_NAME","","legalName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,64,true, false) :
+					new MappedStringAttribute(FirmFinder.legalName(), this.mapper, this.zGetValueSelector());
+				this.legalName = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> ceoId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.ceoId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CEO_ID","","ceoId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(FirmFinder.ceoId(), this.mapper, this.zGetValueSelector());
+				this.ceoId = result;
+			}
+
+			return result;
+		}
+
+		public PersonFinder.PersonCollectionFinderForRelatedClasses<ParentOwnerType, PersonList, Firm> employees()
+		{
+			FirmEmployeesFinderSubclass<ParentOwnerType> result = this.employees;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FirmFinder.zGetFirmEmployeesReverseMapper());
+				newMapper.setToMany(true);
+				result = new FirmEmployeesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.employees = result;
+			}
+
+			return result;
+		}
+
+		public PersonFinder.PersonSingleFinderForRelatedClasses<ParentOwnerType, Person, Firm> ceo()
+		{
+			FirmCeoFinderSubclass<ParentOwnerType> result = this.ceo;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FirmFinder.zGetFirmCeoReverseMapper());
+				newMapper.setToMany(false);
+				result = new FirmCeoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.ceo = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return FirmFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return FirmFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class FirmCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends FirmRelatedFinder<ParentOwnerType, ReturnType, FirmList, OwnerType>
+	{
+		public FirmCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class FirmCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends FirmCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public FirmCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class FirmSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends FirmRelatedFinder<ParentOwnerType, ReturnType, FirmList, OwnerType>
+	implements ToOneFinder
+	{
+		public FirmSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public FirmSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Firm other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Firm findByPrimaryKey(int id)
+		{
+			Firm _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Firm) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class FirmSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends FirmSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public FirmSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper employeesReverseMapper = null;
+	public static Mapper zGetFirmEmployeesReverseMapper()
+	{
+		if (employeesReverseMapper == null)
+		{
+			employeesReverseMapper = zConstructFirmEmployeesReverseMapper();
+		}
+
+		return employeesReverseMapper;
+	}
+
+	private static Mapper employeesMapper = null;
+	public static Mapper zGetFirmEmployeesMapper()
+	{
+		if (employeesMapper == null)
+		{
+			employeesMapper = zConstructFirmEmployeesMapper();
+		}
+
+		return employeesMapper;
+	}
+
+	private static Mapper employeesPureReverseMapper = null;
+	public static Mapper zGetFirmEmployeesPureReverseMapper()
+	{
+		if (employeesPureReverseMapper == null)
+		{
+			employeesPureReverseMapper = zConstructFirmEmployeesPureReverseMapper();
+		}
+
+		return employeesPureReverseMapper;
+	}
+
+	private static Mapper zConstructFirmEmployeesPureReverseMapper()
+	{
+		Mapper employeesMapper = FirmFinder.zGetConstantJoin(0);
+		employeesMapper.setName("employees");
+		return employeesMapper;
+	}
+
+	private static Mapper zConstructFirmEmployeesReverseMapper()
+	{
+		Mapper employeesMapper = FirmFinder.zGetConstantJoin(0);
+		employeesMapper.setName("employees");
+		return employeesMapper;
+	}
+
+	private static Mapper zConstructFirmEmployeesMapper()
+	{
+		Mapper employeesMapper = PersonFinder.zGetConstantJoin(0);
+		employeesMapper.setName("employees_Reverse");
+		return employeesMapper;
+	}
+
+	private static Mapper ceoReverseMapper = null;
+	public static Mapper zGetFirmCeoReverseMapper()
+	{
+		if (ceoReverseMapper == null)
+		{
+			ceoReverseMapper = zConstructFirmCeoReverseMapper();
+		}
+
+		return ceoReverseMapper;
+	}
+
+	private static Mapper ceoMapper = null;
+	public static Mapper zGetFirmCeoMapper()
+	{
+		if (ceoMapper == null)
+		{
+			ceoMapper = zConstructFirmCeoMapper();
+		}
+
+		return ceoMapper;
+	}
+
+	private static Mapper ceoPureReverseMapper = null;
+	public static Mapper zGetFirmCeoPureReverseMapper()
+	{
+		if (ceoPureReverseMapper == null)
+		{
+			ceoPureReverseMapper = zConstructFirmCeoPureReverseMapper();
+		}
+
+		return ceoPureReverseMapper;
+	}
+
+	private static Mapper zConstructFirmCeoPureReverseMapper()
+	{
+		Mapper ceoMapper = FirmFinder.zGetConstantJoin(2);
+		ceoMapper.setName("ceo");
+		return ceoMapper;
+	}
+
+	private static Mapper zConstructFirmCeoReverseMapper()
+	{
+		Mapper ceoMapper = FirmFinder.zGetConstantJoin(2);
+		ceoMapper.setName("ceo");
+		return ceoMapper;
+	}
+
+	private static Mapper zConstructFirmCeoMapper()
+	{
+		Mapper ceoMapper = FirmFinder.zGetConstantJoin(3);
+		ceoMapper.setName("ceo_Reverse");
+		return ceoMapper;
+	}
+
+	/** maps to FIRM_TBL.OBJECTID **/
+	public static IntegerAttribute<Firm> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to FIRM_TBL.LEGAL_NAME **/
+	public static StringAttribute<Firm> legalName()
+	{
+		return finder.legalName();
+	}
+
+	/** maps to FIRM_TBL.CEO_ID **/
+	public static IntegerAttribute<Firm> ceoId()
+	{
+		return finder.ceoId();
+	}
+
+	public static PersonFinder.PersonCollectionFinderForRelatedClasses<Firm, PersonList, Firm> employees()
+	{
+		return finder.employees();
+	}
+
+	public static class FirmEmployeesFinderSubclass<ParentOwnerType> extends PersonFinder.PersonCollectionFinderForRelatedClasses<ParentOwnerType, PersonList, Firm>
+	{
+		public FirmEmployeesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "employees";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FirmEmployeesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PersonList plainValueOf(Firm _obj)
+		{
+			return _obj.getEmployees();
+		}
+
+		protected PersonList plainListValueOf(Object _obj)
+		{
+			return ((FirmList)_obj).getEmployees();
+		}
+	}
+
+	public static PersonFinder.PersonSingleFinderForRelatedClasses<Firm, Person, Firm> ceo()
+	{
+		return finder.ceo();
+	}
+
+	public static class FirmCeoFinderSubclass<ParentOwnerType> extends PersonFinder.PersonSingleFinderForRelatedClasses<ParentOwnerType, Person, Firm>
+	{
+		public FirmCeoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "ceo";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FirmCeoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Person plainValueOf(Firm _obj)
+		{
+			return _obj.getCeo();
+		}
+
+		protected PersonList plainListValueOf(Object _obj)
+		{
+			return ((FirmList)_obj).getCeos();
+		}
+	}
+
+	public static Operation eq(Firm other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static FirmSingleFinder<Firm, Object, Firm> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			ceoId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Firm");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
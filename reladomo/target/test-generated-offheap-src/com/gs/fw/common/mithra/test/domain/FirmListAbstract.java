@@ -0,0 +1,165 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class FirmListAbstract extends DelegatingList<Firm> implements MithraTransactionalList<Firm>
+{
+	public FirmListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public FirmListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public FirmListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public FirmListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Firm[] elements()
+	{
+		Firm[] result = new Firm[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public FirmList intersection(FirmList another)
+	{
+		return (FirmList)super.intersection(another);
+	}
+
+	public Firm getFirmAt(int index)
+	{
+		return (Firm)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Person.firmId = this.id</pre>
+	* @return employees
+	*/
+	public PersonList getEmployees()
+	{
+		return (PersonList) this.zGetDelegated().resolveRelationship(this, FirmFinder.employees());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Person.firmId = this.ceoId</pre>
+	* @return The ceo
+	*/
+	public PersonList getCeos()
+	{
+		return (PersonList) this.zGetDelegated().resolveRelationship(this, FirmFinder.ceo());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return FirmFinder.getMithraObjectPortal();
+	}
+
+	public FirmList getNonPersistentCopy()
+	{
+		FirmList result = new FirmList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public FirmList asAdhoc()
+	{
+		return (FirmList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Firm> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public FirmList merge(MithraTransactionalList<Firm> incoming, TopLevelMergeOptions<Firm> mergeOptions)
+	{
+		return (FirmList) super.merge(incoming, mergeOptions);
+	}
+
+	public FirmList getDetachedCopy()
+	{
+		FirmList result = new FirmList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(FirmFinder.id(), newValue);
+	}
+
+	public void setLegalName(String newValue)
+	{
+		zSetString(FirmFinder.legalName(), newValue);
+	}
+
+	public void setCeoId(int newValue)
+	{
+		zSetInteger(FirmFinder.ceoId(), newValue);
+	}
+
+	public void setCeoIdNull()
+	{
+		zSetAttributeNull(FirmFinder.ceoId());
+	}
+}
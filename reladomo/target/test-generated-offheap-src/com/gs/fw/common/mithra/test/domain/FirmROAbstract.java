@@ -0,0 +1,393 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class FirmROAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private int ceoId;
+	private int id;
+	private String legalName;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isLegalNameNull()
+	{
+		return this.getLegalName() == null;
+	}
+
+	public boolean isCeoIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.ceoId);
+		out.writeInt(this.id);
+		out.writeObject(this.legalName);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		FirmROData data = new FirmROData();
+		data.setCeoId(ceoId);
+		data.setId(id);
+		data.setLegalName(legalName);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public FirmRO getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		FirmROAbstract copy = (FirmROAbstract) FirmROFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (FirmRO)copy;
+	}
+
+	protected void zSetFromFirmROData(FirmROData data)
+	{
+		this.setFromFirmROData(data);
+	}
+
+	public void setFromFirmROData(FirmROData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		ceoId = data.getCeoId();
+		id = data.getId();
+		legalName = data.getLegalName();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return FirmROFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromFirmROData((FirmROData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public int getCeoId()
+	{
+		if (isCeoIdNull()) throwNullPrimitiveException("ceoId");
+		return this.ceoId;
+	}
+
+	public void setCeoId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.ceoId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public String getLegalName()
+	{
+		return this.legalName;
+	}
+
+	public void setLegalName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.legalName = StringPool.getInstance().getOrAddToCache(value, FirmROFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setCeoIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PersonRO.firmId = this.id</pre>
+	* @return employees
+	*/
+	public PersonROList getEmployees()
+	{
+		PersonROList _result = null;
+		if (_relationships != null)
+		{
+			_result = (PersonROList)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new PersonROList(zGetEmployeesOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PersonRO.firmId = this.ceoId</pre>
+	* @return The ceo
+	*/
+	public PersonRO getCeo()
+	{
+		PersonRO _result = null;
+		if (_relationships != null)
+		{
+			_result = (PersonRO)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isCeoIdNull())
+			{
+				{
+					_result = PersonROFinder.zFindOneForRelationship(zGetCeoOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	public void setEmployees(PersonROList employees)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = employees;
+	}
+
+	public void setCeo(PersonRO ceo)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = ceo;
+		if (ceo == null)
+		{
+			this.setCeoIdNull();
+		}
+		else
+		{
+			this.setCeoId(ceo.getFirmId());
+		}
+	}
+
+	public Operation zGetEmployeesOperation()
+	{
+		FirmROAbstract _data = this;
+		return PersonROFinder.firmId().eq(_data.getId());
+	}
+
+	public Operation zGetCeoOperation()
+	{
+		FirmROAbstract _data = this;
+		return PersonROFinder.firmId().eq(_data.getCeoId());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final FirmROData firmROData = (FirmROData) newData;
+		if (isNullBits0 != firmROData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (ceoId != firmROData.getCeoId())
+		{
+			return true;
+		}
+
+		if (!isLegalNameNull() ? !getLegalName().equals(firmROData.getLegalName()) : !firmROData.isLegalNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.ceoId = in.readInt();
+			this.id = in.readInt();
+			this.legalName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FirmROFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = FirmROFinder.id().eq(this.getId());
+			return FirmROFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,128 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class FirmROListAbstract extends DelegatingList<FirmRO> implements MithraList<FirmRO>
+{
+	public FirmROListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public FirmROListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public FirmROListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public FirmROListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public FirmRO[] elements()
+	{
+		FirmRO[] result = new FirmRO[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public FirmROList intersection(FirmROList another)
+	{
+		return (FirmROList)super.intersection(another);
+	}
+
+	public FirmRO getFirmROAt(int index)
+	{
+		return (FirmRO)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PersonRO.firmId = this.id</pre>
+	* @return employees
+	*/
+	public PersonROList getEmployees()
+	{
+		return (PersonROList) this.zGetDelegated().resolveRelationship(this, FirmROFinder.employees());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PersonRO.firmId = this.ceoId</pre>
+	* @return The ceo
+	*/
+	public PersonROList getCeos()
+	{
+		return (PersonROList) this.zGetDelegated().resolveRelationship(this, FirmROFinder.ceo());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return FirmROFinder.getMithraObjectPortal();
+	}
+
+	public FirmROList getNonPersistentCopy()
+	{
+		FirmROList result = new FirmROList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public FirmROList asAdhoc()
+	{
+		return (FirmROList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<FirmRO> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class FullyCachedTinyBalanceListAbstract extends DelegatingList<FullyCachedTinyBalance> implements MithraDatedTransactionalList<FullyCachedTinyBalance>
+{
+	public FullyCachedTinyBalanceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public FullyCachedTinyBalanceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public FullyCachedTinyBalanceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public FullyCachedTinyBalanceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public FullyCachedTinyBalance[] elements()
+	{
+		FullyCachedTinyBalance[] result = new FullyCachedTinyBalance[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public FullyCachedTinyBalanceList intersection(FullyCachedTinyBalanceList another)
+	{
+		return (FullyCachedTinyBalanceList)super.intersection(another);
+	}
+
+	public FullyCachedTinyBalance getFullyCachedTinyBalanceAt(int index)
+	{
+		return (FullyCachedTinyBalance)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return FullyCachedTinyBalanceFinder.getMithraObjectPortal();
+	}
+
+	public FullyCachedTinyBalanceList getNonPersistentCopy()
+	{
+		FullyCachedTinyBalanceList result = new FullyCachedTinyBalanceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public FullyCachedTinyBalanceList asAdhoc()
+	{
+		return (FullyCachedTinyBalanceList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<FullyCachedTinyBalance> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public FullyCachedTinyBalanceList merge(MithraTransactionalList<FullyCachedTinyBalance> incoming, TopLevelMergeOptions<FullyCachedTinyBalance> mergeOptions)
+	{
+		return (FullyCachedTinyBalanceList) super.merge(incoming, mergeOptions);
+	}
+
+	public FullyCachedTinyBalanceList getDetachedCopy()
+	{
+		FullyCachedTinyBalanceList result = new FullyCachedTinyBalanceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(FullyCachedTinyBalanceFinder.balanceId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(FullyCachedTinyBalanceFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(FullyCachedTinyBalanceFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(FullyCachedTinyBalanceFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(FullyCachedTinyBalanceFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(FullyCachedTinyBalanceFinder.processingDateTo(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(FullyCachedTinyBalanceFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,2405 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class GhostMessagePendingTransactionData
+implements MithraDataObject
+{
+	private int isNullBits0 = 0;
+	private String accountId;
+	private String acmapCode;
+	private String brokerAccountNumber;
+	private String brokerName;
+	private String clearingAgent;
+	private String counterPartyType;
+	private String crossAccountId;
+	private String cusip;
+	private String exdivStatus;
+	private double fxRate;
+	private String gsn;
+	private String marketCode;
+	private String matchTransactionRefNumber;
+	private Timestamp processedDate;
+	private int prodId;
+	private String productCedelNumber;
+	private int productHubReference;
+	private String productIsinNumber;
+	private String profitCenter;
+	private String settleDate;
+	private String tradeDate;
+	private String trader;
+	private String trail1;
+	private String trail2;
+	private String trail3;
+	private String trail4;
+	private String trail5;
+	private String trail6;
+	private String trail7;
+	private String trail8;
+	private String transactionActionCode;
+	private String transactionBuySell;
+	private String transactionClose;
+	private String transactionCode;
+	private double transactionCost;
+	private double transactionCostBase;
+	private String transactionCostCurrency;
+	private String transactionCurrency;
+	private String transactionCustomer;
+	private double transactionDeductAmount;
+	private double transactionDeductBaseAmount;
+	private String transactionExecTime;
+	private double transactionExtPrice;
+	private String transactionFactor;
+	private String transactionFactory;
+	private int transactionId;
+	private String transactionIgnore;
+	private String transactionMemo;
+	private String transactionOffice;
+	private double transactionOrigFaceValue;
+	private double transactionPrice;
+	private double transactionPurInt;
+	private double transactionPurIntBase;
+	private double transactionQuantity;
+	private String transactionRefNumber;
+	private double transactionSettleAmount;
+	private double transactionSettleBaseAmount;
+	private String transactionSettleCurrency;
+	private String transactionSource;
+	private String transactionStatus;
+	private String transactionType;
+	private int transactionVersion;
+	private double transactionXferTaxA;
+	private double transactionXferTaxB;
+	public boolean isAccountIdNull()
+	{
+		return this.getAccountId() == null;
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isBrokerAccountNumberNull()
+	{
+		return this.getBrokerAccountNumber() == null;
+	}
+
+	public boolean isBrokerNameNull()
+	{
+		return this.getBrokerName() == null;
+	}
+
+	public boolean isClearingAgentNull()
+	{
+		return this.getClearingAgent() == null;
+	}
+
+	public boolean isCounterPartyTypeNull()
+	{
+		return this.getCounterPartyType() == null;
+	}
+
+	public boolean isCrossAccountIdNull()
+	{
+		return this.getCrossAccountId() == null;
+	}
+
+	public boolean isCusipNull()
+	{
+		return this.getCusip() == null;
+	}
+
+	public boolean isExdivStatusNull()
+	{
+		return this.getExdivStatus() == null;
+	}
+
+	public boolean isGsnNull()
+	{
+		return this.getGsn() == null;
+	}
+
+	public boolean isMarketCodeNull()
+	{
+		return this.getMarketCode() == null;
+	}
+
+	public boolean isMatchTransactionRefNumberNull()
+	{
+		return this.getMatchTransactionRefNumber() == null;
+	}
+
+	public boolean isProcessedDateNull()
+	{
+		return this.getProcessedDate() == null;
+	}
+
+	public boolean isProductCedelNumberNull()
+	{
+		return this.getProductCedelNumber() == null;
+	}
+
+	public boolean isProductIsinNumberNull()
+	{
+		return this.getProductIsinNumber() == null;
+	}
+
+	public boolean isProfitCenterNull()
+	{
+		return this.getProfitCenter() == null;
+	}
+
+	public boolean isSettleDateNull()
+	{
+		return this.getSettleDate() == null;
+	}
+
+	public boolean isTradeDateNull()
+	{
+		return this.getTradeDate() == null;
+	}
+
+	public boolean isTraderNull()
+	{
+		return this.getTrader() == null;
+	}
+
+	public boolean isTrail1Null()
+	{
+		return this.getTrail1() == null;
+	}
+
+	public boolean isTrail2Null()
+	{
+		return this.getTrail2() == null;
+	}
+
+	public boolean isTrail3Null()
+	{
+		return this.getTrail3() == null;
+	}
+
+	public boolean isTrail4Null()
+	{
+		return this.getTrail4() == null;
+	}
+
+	public boolean isTrail5Null()
+	{
+		return this.getTrail5() == null;
+	}
+
+	public boolean isTrail6Null()
+	{
+		return this.getTrail6() == null;
+	}
+
+	public boolean isTrail7Null()
+	{
+		return this.getTrail7() == null;
+	}
+
+	public boolean isTrail8Null()
+	{
+		return this.getTrail8() == null;
+	}
+
+	public boolean isTransactionActionCodeNull()
+	{
+		return this.getTransactionActionCode() == null;
+	}
+
+	public boolean isTransactionBuySellNull()
+	{
+		return this.getTransactionBuySell() == null;
+	}
+
+	public boolean isTransactionCloseNull()
+	{
+		return this.getTransactionClose() == null;
+	}
+
+	public boolean isTransactionCodeNull()
+	{
+		return this.getTransactionCode() == null;
+	}
+
+	public boolean isTransactionCostCurrencyNull()
+	{
+		return this.getTransactionCostCurrency() == null;
+	}
+
+	public boolean isTransactionCurrencyNull()
+	{
+		return this.getTransactionCurrency() == null;
+	}
+
+	public boolean isTransactionCustomerNull()
+	{
+		return this.getTransactionCustomer() == null;
+	}
+
+	public boolean isTransactionExecTimeNull()
+	{
+		return this.getTransactionExecTime() == null;
+	}
+
+	public boolean isTransactionFactorNull()
+	{
+		return this.getTransactionFactor() == null;
+	}
+
+	public boolean isTransactionFactoryNull()
+	{
+		return this.getTransactionFactory() == null;
+	}
+
+	public boolean isTransactionIdNull()
+	{
+		return false;
+	}
+
+	public boolean isTransactionIgnoreNull()
+	{
+		return this.getTransactionIgnore() == null;
+	}
+
+	public boolean isTransactionMemoNull()
+	{
+		return this.getTransactionMemo() == null;
+	}
+
+	public boolean isTransactionOfficeNull()
+	{
+		return this.getTransactionOffice() == null;
+	}
+
+	public boolean isTransactionRefNumberNull()
+	{
+		return this.getTransactionRefNumber() == null;
+	}
+
+	public boolean isTransactionSettleCurrencyNull()
+	{
+		return this.getTransactionSettleCurrency() == null;
+	}
+
+	public boolean isTransactionSourceNull()
+	{
+		return this.getTransactionSource() == null;
+	}
+
+	public boolean isTransactionStatusNull()
+	{
+		return this.getTransactionStatus() == null;
+	}
+
+	public boolean isTransactionTypeNull()
+	{
+		return this.getTransactionType() == null;
+	}
+
+	public boolean isProdIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isProductHubReferenceNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isTransactionQuantityNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isTransactionPriceNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isTransactionCostNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isTransactionCostBaseNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isTransactionPurIntNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isTransactionPurIntBaseNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public boolean isTransactionSettleAmountNull()
+	{
+		return (isNullBits0 & 1 << 8) != 0 ;
+	}
+
+	public boolean isTransactionSettleBaseAmountNull()
+	{
+		return (isNullBits0 & 1 << 9) != 0 ;
+	}
+
+	public boolean isTransactionDeductAmountNull()
+	{
+		return (isNullBits0 & 1 << 10) != 0 ;
+	}
+
+	public boolean isTransactionDeductBaseAmountNull()
+	{
+		return (isNullBits0 & 1 << 11) != 0 ;
+	}
+
+	public boolean isTransactionOrigFaceValueNull()
+	{
+		return (isNullBits0 & 1 << 12) != 0 ;
+	}
+
+	public boolean isTransactionXferTaxANull()
+	{
+		return (isNullBits0 & 1 << 13) != 0 ;
+	}
+
+	public boolean isTransactionXferTaxBNull()
+	{
+		return (isNullBits0 & 1 << 14) != 0 ;
+	}
+
+	public boolean isFxRateNull()
+	{
+		return (isNullBits0 & 1 << 15) != 0 ;
+	}
+
+	public boolean isTransactionExtPriceNull()
+	{
+		return (isNullBits0 & 1 << 16) != 0 ;
+	}
+
+	public boolean isTransactionVersionNull()
+	{
+		return (isNullBits0 & 1 << 17) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountId);
+		out.writeObject(this.acmapCode);
+		out.writeObject(this.brokerAccountNumber);
+		out.writeObject(this.brokerName);
+		out.writeObject(this.clearingAgent);
+		out.writeObject(this.counterPartyType);
+		out.writeObject(this.crossAccountId);
+		out.writeObject(this.cusip);
+		out.writeObject(this.exdivStatus);
+		out.writeDouble(this.fxRate);
+		out.writeObject(this.gsn);
+		out.writeObject(this.marketCode);
+		out.writeObject(this.matchTransactionRefNumber);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processedDate);
+		out.writeInt(this.prodId);
+		out.writeObject(this.productCedelNumber);
+		out.writeInt(this.productHubReference);
+		out.writeObject(this.productIsinNumber);
+		out.writeObject(this.profitCenter);
+		out.writeObject(this.settleDate);
+		out.writeObject(this.tradeDate);
+		out.writeObject(this.trader);
+		out.writeObject(this.trail1);
+		out.writeObject(this.trail2);
+		out.writeObject(this.trail3);
+		out.writeObject(this.trail4);
+		out.writeObject(this.trail5);
+		out.writeObject(this.trail6);
+		out.writeObject(this.trail7);
+		out.writeObject(this.trail8);
+		out.writeObject(this.transactionActionCode);
+		out.writeObject(this.transactionBuySell);
+		out.writeObject(this.transactionClose);
+		out.writeObject(this.transactionCode);
+		out.writeDouble(this.transactionCost);
+		out.writeDouble(this.transactionCostBase);
+		out.writeObject(this.transactionCostCurrency);
+		out.writeObject(this.transactionCurrency);
+		out.writeObject(this.transactionCustomer);
+		out.writeDouble(this.transactionDeductAmount);
+		out.writeDouble(this.transactionDeductBaseAmount);
+		out.writeObject(this.transactionExecTime);
+		out.writeDouble(this.transactionExtPrice);
+		out.writeObject(this.transactionFactor);
+		out.writeObject(this.transactionFactory);
+		out.writeInt(this.transactionId);
+		out.writeObject(this.transactionIgnore);
+		out.writeObject(this.transactionMemo);
+		out.writeObject(this.transactionOffice);
+		out.writeDouble(this.transactionOrigFaceValue);
+		out.writeDouble(this.transactionPrice);
+		out.writeDouble(this.transactionPurInt);
+		out.writeDouble(this.transactionPurIntBase);
+		out.writeDouble(this.transactionQuantity);
+		out.writeObject(this.transactionRefNumber);
+		out.writeDouble(this.transactionSettleAmount);
+		out.writeDouble(this.transactionSettleBaseAmount);
+		out.writeObject(this.transactionSettleCurrency);
+		out.writeObject(this.transactionSource);
+		out.writeObject(this.transactionStatus);
+		out.writeObject(this.transactionType);
+		out.writeInt(this.transactionVersion);
+		out.writeDouble(this.transactionXferTaxA);
+		out.writeDouble(this.transactionXferTaxB);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.isNullBits0);
+	}
+
+	public String getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public int zGetAccountIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountId);
+	}
+
+	public void setAccountId(String value)
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setAccountIdNull()
+	{
+		this.setAccountId(null);
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public int zGetAcmapCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(acmapCode);
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setAcmapCodeNull()
+	{
+		this.setAcmapCode(null);
+	}
+
+	public String getBrokerAccountNumber()
+	{
+		return this.brokerAccountNumber;
+	}
+
+	public int zGetBrokerAccountNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(brokerAccountNumber);
+	}
+
+	public void setBrokerAccountNumber(String value)
+	{
+		this.brokerAccountNumber = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setBrokerAccountNumberNull()
+	{
+		this.setBrokerAccountNumber(null);
+	}
+
+	public String getBrokerName()
+	{
+		return this.brokerName;
+	}
+
+	public int zGetBrokerNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(brokerName);
+	}
+
+	public void setBrokerName(String value)
+	{
+		this.brokerName = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setBrokerNameNull()
+	{
+		this.setBrokerName(null);
+	}
+
+	public String getClearingAgent()
+	{
+		return this.clearingAgent;
+	}
+
+	public int zGetClearingAgentAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(clearingAgent);
+	}
+
+	public void setClearingAgent(String value)
+	{
+		this.clearingAgent = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setClearingAgentNull()
+	{
+		this.setClearingAgent(null);
+	}
+
+	public String getCounterPartyType()
+	{
+		return this.counterPartyType;
+	}
+
+	public int zGetCounterPartyTypeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(counterPartyType);
+	}
+
+	public void setCounterPartyType(String value)
+	{
+		this.counterPartyType = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setCounterPartyTypeNull()
+	{
+		this.setCounterPartyType(null);
+	}
+
+	public String getCrossAccountId()
+	{
+		return this.crossAccountId;
+	}
+
+	public int zGetCrossAccountIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(crossAccountId);
+	}
+
+	public void setCrossAccountId(String value)
+	{
+		this.crossAccountId = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setCrossAccountIdNull()
+	{
+		this.setCrossAccountId(null);
+	}
+
+	public String getCusip()
+	{
+		return this.cusip;
+	}
+
+	public int zGetCusipAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(cusip);
+	}
+
+	public void setCusip(String value)
+	{
+		this.cusip = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setCusipNull()
+	{
+		this.setCusip(null);
+	}
+
+	public String getExdivStatus()
+	{
+		return this.exdivStatus;
+	}
+
+	public int zGetExdivStatusAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(exdivStatus);
+	}
+
+	public void setExdivStatus(String value)
+	{
+		this.exdivStatus = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setExdivStatusNull()
+	{
+		this.setExdivStatus(null);
+	}
+
+	public double getFxRate()
+	{
+		return this.fxRate;
+	}
+
+	public void setFxRate(double value)
+	{
+		this.fxRate = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 15);
+	}
+
+	public String getGsn()
+	{
+		return this.gsn;
+	}
+
+	public int zGetGsnAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(gsn);
+	}
+
+	public void setGsn(String value)
+	{
+		this.gsn = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setGsnNull()
+	{
+		this.setGsn(null);
+	}
+
+	public String getMarketCode()
+	{
+		return this.marketCode;
+	}
+
+	public int zGetMarketCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(marketCode);
+	}
+
+	public void setMarketCode(String value)
+	{
+		this.marketCode = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setMarketCodeNull()
+	{
+		this.setMarketCode(null);
+	}
+
+	public String getMatchTransactionRefNumber()
+	{
+		return this.matchTransactionRefNumber;
+	}
+
+	public int zGetMatchTransactionRefNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(matchTransactionRefNumber);
+	}
+
+	public void setMatchTransactionRefNumber(String value)
+	{
+		this.matchTransactionRefNumber = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setMatchTransactionRefNumberNull()
+	{
+		this.setMatchTransactionRefNumber(null);
+	}
+
+	public Timestamp getProcessedDate()
+	{
+		return this.processedDate;
+	}
+
+	public long zGetProcessedDateAsLong()
+	{
+		if (processedDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return processedDate.getTime();
+	}
+
+	public void setProcessedDate(Timestamp value)
+	{
+		this.processedDate = TimestampPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache(), GhostMessagePendingTransactionFinder.isOffHeap());
+	}
+
+	public void setProcessedDateNull()
+	{
+		this.setProcessedDate(null);
+	}
+
+	public int getProdId()
+	{
+		return this.prodId;
+	}
+
+	public void setProdId(int value)
+	{
+		this.prodId = value;
+		isNullBits0 = isNullBits0 & ~( 1);
+	}
+
+	public String getProductCedelNumber()
+	{
+		return this.productCedelNumber;
+	}
+
+	public int zGetProductCedelNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(productCedelNumber);
+	}
+
+	public void setProductCedelNumber(String value)
+	{
+		this.productCedelNumber = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setProductCedelNumberNull()
+	{
+		this.setProductCedelNumber(null);
+	}
+
+	public int getProductHubReference()
+	{
+		return this.productHubReference;
+	}
+
+	public void setProductHubReference(int value)
+	{
+		this.productHubReference = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 1);
+	}
+
+	public String getProductIsinNumber()
+	{
+		return this.productIsinNumber;
+	}
+
+	public int zGetProductIsinNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(productIsinNumber);
+	}
+
+	public void setProductIsinNumber(String value)
+	{
+		this.productIsinNumber = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setProductIsinNumberNull()
+	{
+		this.setProductIsinNumber(null);
+	}
+
+	public String getProfitCenter()
+	{
+		return this.profitCenter;
+	}
+
+	public int zGetProfitCenterAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(profitCenter);
+	}
+
+	public void setProfitCenter(String value)
+	{
+		this.profitCenter = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setProfitCenterNull()
+	{
+		this.setProfitCenter(null);
+	}
+
+	public String getSettleDate()
+	{
+		return this.settleDate;
+	}
+
+	public int zGetSettleDateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(settleDate);
+	}
+
+	public void setSettleDate(String value)
+	{
+		this.settleDate = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setSettleDateNull()
+	{
+		this.setSettleDate(null);
+	}
+
+	public String getTradeDate()
+	{
+		return this.tradeDate;
+	}
+
+	public int zGetTradeDateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(tradeDate);
+	}
+
+	public void setTradeDate(String value)
+	{
+		this.tradeDate = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTradeDateNull()
+	{
+		this.setTradeDate(null);
+	}
+
+	public String getTrader()
+	{
+		return this.trader;
+	}
+
+	public int zGetTraderAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trader);
+	}
+
+	public void setTrader(String value)
+	{
+		this.trader = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTraderNull()
+	{
+		this.setTrader(null);
+	}
+
+	public String getTrail1()
+	{
+		return this.trail1;
+	}
+
+	public int zGetTrail1AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trail1);
+	}
+
+	public void setTrail1(String value)
+	{
+		this.trail1 = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTrail1Null()
+	{
+		this.setTrail1(null);
+	}
+
+	public String getTrail2()
+	{
+		return this.trail2;
+	}
+
+	public int zGetTrail2AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trail2);
+	}
+
+	public void setTrail2(String value)
+	{
+		this.trail2 = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTrail2Null()
+	{
+		this.setTrail2(null);
+	}
+
+	public String getTrail3()
+	{
+		return this.trail3;
+	}
+
+	public int zGetTrail3AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trail3);
+	}
+
+	public void setTrail3(String value)
+	{
+		this.trail3 = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTrail3Null()
+	{
+		this.setTrail3(null);
+	}
+
+	public String getTrail4()
+	{
+		return this.trail4;
+	}
+
+	public int zGetTrail4AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trail4);
+	}
+
+	public void setTrail4(String value)
+	{
+		this.trail4 = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTrail4Null()
+	{
+		this.setTrail4(null);
+	}
+
+	public String getTrail5()
+	{
+		return this.trail5;
+	}
+
+	public int zGetTrail5AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trail5);
+	}
+
+	public void setTrail5(String value)
+	{
+		this.trail5 = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTrail5Null()
+	{
+		this.setTrail5(null);
+	}
+
+	public String getTrail6()
+	{
+		return this.trail6;
+	}
+
+	public int zGetTrail6AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trail6);
+	}
+
+	public void setTrail6(String value)
+	{
+		this.trail6 = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTrail6Null()
+	{
+		this.setTrail6(null);
+	}
+
+	public String getTrail7()
+	{
+		return this.trail7;
+	}
+
+	public int zGetTrail7AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trail7);
+	}
+
+	public void setTrail7(String value)
+	{
+		this.trail7 = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTrail7Null()
+	{
+		this.setTrail7(null);
+	}
+
+	public String getTrail8()
+	{
+		return this.trail8;
+	}
+
+	public int zGetTrail8AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trail8);
+	}
+
+	public void setTrail8(String value)
+	{
+		this.trail8 = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTrail8Null()
+	{
+		this.setTrail8(null);
+	}
+
+	public String getTransactionActionCode()
+	{
+		return this.transactionActionCode;
+	}
+
+	public int zGetTransactionActionCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionActionCode);
+	}
+
+	public void setTransactionActionCode(String value)
+	{
+		this.transactionActionCode = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionActionCodeNull()
+	{
+		this.setTransactionActionCode(null);
+	}
+
+	public String getTransactionBuySell()
+	{
+		return this.transactionBuySell;
+	}
+
+	public int zGetTransactionBuySellAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionBuySell);
+	}
+
+	public void setTransactionBuySell(String value)
+	{
+		this.transactionBuySell = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionBuySellNull()
+	{
+		this.setTransactionBuySell(null);
+	}
+
+	public String getTransactionClose()
+	{
+		return this.transactionClose;
+	}
+
+	public int zGetTransactionCloseAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionClose);
+	}
+
+	public void setTransactionClose(String value)
+	{
+		this.transactionClose = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionCloseNull()
+	{
+		this.setTransactionClose(null);
+	}
+
+	public String getTransactionCode()
+	{
+		return this.transactionCode;
+	}
+
+	public int zGetTransactionCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionCode);
+	}
+
+	public void setTransactionCode(String value)
+	{
+		this.transactionCode = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionCodeNull()
+	{
+		this.setTransactionCode(null);
+	}
+
+	public double getTransactionCost()
+	{
+		return this.transactionCost;
+	}
+
+	public void setTransactionCost(double value)
+	{
+		this.transactionCost = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 4);
+	}
+
+	public double getTransactionCostBase()
+	{
+		return this.transactionCostBase;
+	}
+
+	public void setTransactionCostBase(double value)
+	{
+		this.transactionCostBase = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 5);
+	}
+
+	public String getTransactionCostCurrency()
+	{
+		return this.transactionCostCurrency;
+	}
+
+	public int zGetTransactionCostCurrencyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionCostCurrency);
+	}
+
+	public void setTransactionCostCurrency(String value)
+	{
+		this.transactionCostCurrency = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionCostCurrencyNull()
+	{
+		this.setTransactionCostCurrency(null);
+	}
+
+	public String getTransactionCurrency()
+	{
+		return this.transactionCurrency;
+	}
+
+	public int zGetTransactionCurrencyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionCurrency);
+	}
+
+	public void setTransactionCurrency(String value)
+	{
+		this.transactionCurrency = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionCurrencyNull()
+	{
+		this.setTransactionCurrency(null);
+	}
+
+	public String getTransactionCustomer()
+	{
+		return this.transactionCustomer;
+	}
+
+	public int zGetTransactionCustomerAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionCustomer);
+	}
+
+	public void setTransactionCustomer(String value)
+	{
+		this.transactionCustomer = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionCustomerNull()
+	{
+		this.setTransactionCustomer(null);
+	}
+
+	public double getTransactionDeductAmount()
+	{
+		return this.transactionDeductAmount;
+	}
+
+	public void setTransactionDeductAmount(double value)
+	{
+		this.transactionDeductAmount = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 10);
+	}
+
+	public double getTransactionDeductBaseAmount()
+	{
+		return this.transactionDeductBaseAmount;
+	}
+
+	public void setTransactionDeductBaseAmount(double value)
+	{
+		this.transactionDeductBaseAmount = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 11);
+	}
+
+	public String getTransactionExecTime()
+	{
+		return this.transactionExecTime;
+	}
+
+	public int zGetTransactionExecTimeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionExecTime);
+	}
+
+	public void setTransactionExecTime(String value)
+	{
+		this.transactionExecTime = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionExecTimeNull()
+	{
+		this.setTransactionExecTime(null);
+	}
+
+	public double getTransactionExtPrice()
+	{
+		return this.transactionExtPrice;
+	}
+
+	public void setTransactionExtPrice(double value)
+	{
+		this.transactionExtPrice = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 16);
+	}
+
+	public String getTransactionFactor()
+	{
+		return this.transactionFactor;
+	}
+
+	public int zGetTransactionFactorAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionFactor);
+	}
+
+	public void setTransactionFactor(String value)
+	{
+		this.transactionFactor = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionFactorNull()
+	{
+		this.setTransactionFactor(null);
+	}
+
+	public String getTransactionFactory()
+	{
+		return this.transactionFactory;
+	}
+
+	public int zGetTransactionFactoryAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionFactory);
+	}
+
+	public void setTransactionFactory(String value)
+	{
+		this.transactionFactory = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionFactoryNull()
+	{
+		this.setTransactionFactory(null);
+	}
+
+	public int getTransactionId()
+	{
+		return this.transactionId;
+	}
+
+	public void setTransactionId(int value)
+	{
+		this.transactionId = value;
+	}
+
+	public void setTransactionIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getTransactionIgnore()
+	{
+		return this.transactionIgnore;
+	}
+
+	public int zGetTransactionIgnoreAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionIgnore);
+	}
+
+	public void setTransactionIgnore(String value)
+	{
+		this.transactionIgnore = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionIgnoreNull()
+	{
+		this.setTransactionIgnore(null);
+	}
+
+	public String getTransactionMemo()
+	{
+		return this.transactionMemo;
+	}
+
+	public int zGetTransactionMemoAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionMemo);
+	}
+
+	public void setTransactionMemo(String value)
+	{
+		this.transactionMemo = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionMemoNull()
+	{
+		this.setTransactionMemo(null);
+	}
+
+	public String getTransactionOffice()
+	{
+		return this.transactionOffice;
+	}
+
+	public int zGetTransactionOfficeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionOffice);
+	}
+
+	public void setTransactionOffice(String value)
+	{
+		this.transactionOffice = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionOfficeNull()
+	{
+		this.setTransactionOffice(null);
+	}
+
+	public double getTransactionOrigFaceValue()
+	{
+		return this.transactionOrigFaceValue;
+	}
+
+	public void setTransactionOrigFaceValue(double value)
+	{
+		this.transactionOrigFaceValue = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 12);
+	}
+
+	public double getTransactionPrice()
+	{
+		return this.transactionPrice;
+	}
+
+	public void setTransactionPrice(double value)
+	{
+		this.transactionPrice = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 3);
+	}
+
+	public double getTransactionPurInt()
+	{
+		return this.transactionPurInt;
+	}
+
+	public void setTransactionPurInt(double value)
+	{
+		this.transactionPurInt = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 6);
+	}
+
+	public double getTransactionPurIntBase()
+	{
+		return this.transactionPurIntBase;
+	}
+
+	public void setTransactionPurIntBase(double value)
+	{
+		this.transactionPurIntBase = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 7);
+	}
+
+	public double getTransactionQuantity()
+	{
+		return this.transactionQuantity;
+	}
+
+	public void setTransactionQuantity(double value)
+	{
+		this.transactionQuantity = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 2);
+	}
+
+	public String getTransactionRefNumber()
+	{
+		return this.transactionRefNumber;
+	}
+
+	public int zGetTransactionRefNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionRefNumber);
+	}
+
+	public void setTransactionRefNumber(String value)
+	{
+		this.transactionRefNumber = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionRefNumberNull()
+	{
+		this.setTransactionRefNumber(null);
+	}
+
+	public double getTransactionSettleAmount()
+	{
+		return this.transactionSettleAmount;
+	}
+
+	public void setTransactionSettleAmount(double value)
+	{
+		this.transactionSettleAmount = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 8);
+	}
+
+	public double getTransactionSettleBaseAmount()
+	{
+		return this.transactionSettleBaseAmount;
+	}
+
+	public void setTransactionSettleBaseAmount(double value)
+	{
+		this.transactionSettleBaseAmount = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 9);
+	}
+
+	public String getTransactionSettleCurrency()
+	{
+		return this.transactionSettleCurrency;
+	}
+
+	public int zGetTransactionSettleCurrencyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionSettleCurrency);
+	}
+
+	public void setTransactionSettleCurrency(String value)
+	{
+		this.transactionSettleCurrency = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionSettleCurrencyNull()
+	{
+		this.setTransactionSettleCurrency(null);
+	}
+
+	public String getTransactionSource()
+	{
+		return this.transactionSource;
+	}
+
+	public int zGetTransactionSourceAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionSource);
+	}
+
+	public void setTransactionSource(String value)
+	{
+		this.transactionSource = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionSourceNull()
+	{
+		this.setTransactionSource(null);
+	}
+
+	public String getTransactionStatus()
+	{
+		return this.transactionStatus;
+	}
+
+	public int zGetTransactionStatusAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionStatus);
+	}
+
+	public void setTransactionStatus(String value)
+	{
+		this.transactionStatus = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionStatusNull()
+	{
+		this.setTransactionStatus(null);
+	}
+
+	public String getTransactionType()
+	{
+		return this.transactionType;
+	}
+
+	public int zGetTransactionTypeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionType);
+	}
+
+	public void setTransactionType(String value)
+	{
+		this.transactionType = StringPool.getInstance().getOrAddToCache(value, GhostMessagePendingTransactionFinder.isFullCache());
+	}
+
+	public void setTransactionTypeNull()
+	{
+		this.setTransactionType(null);
+	}
+
+	public int getTransactionVersion()
+	{
+		return this.transactionVersion;
+	}
+
+	public void setTransactionVersion(int value)
+	{
+		this.transactionVersion = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 17);
+	}
+
+	public double getTransactionXferTaxA()
+	{
+		return this.transactionXferTaxA;
+	}
+
+	public void setTransactionXferTaxA(double value)
+	{
+		this.transactionXferTaxA = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 13);
+	}
+
+	public double getTransactionXferTaxB()
+	{
+		return this.transactionXferTaxB;
+	}
+
+	public void setTransactionXferTaxB(double value)
+	{
+		this.transactionXferTaxB = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 14);
+	}
+
+	public void setProdIdNull()
+	{
+		isNullBits0 = (isNullBits0 | 1);
+	}
+
+	public void setProductHubReferenceNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 1);
+	}
+
+	public void setTransactionQuantityNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 2);
+	}
+
+	public void setTransactionPriceNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 3);
+	}
+
+	public void setTransactionCostNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 4);
+	}
+
+	public void setTransactionCostBaseNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 5);
+	}
+
+	public void setTransactionPurIntNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 6);
+	}
+
+	public void setTransactionPurIntBaseNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 7);
+	}
+
+	public void setTransactionSettleAmountNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 8);
+	}
+
+	public void setTransactionSettleBaseAmountNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 9);
+	}
+
+	public void setTransactionDeductAmountNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 10);
+	}
+
+	public void setTransactionDeductBaseAmountNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 11);
+	}
+
+	public void setTransactionOrigFaceValueNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 12);
+	}
+
+	public void setTransactionXferTaxANull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 13);
+	}
+
+	public void setTransactionXferTaxBNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 14);
+	}
+
+	public void setFxRateNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 15);
+	}
+
+	public void setTransactionExtPriceNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 16);
+	}
+
+	public void setTransactionVersionNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 17);
+	}
+
+	public int zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(int newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(GhostMessagePendingTransactionData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.accountId = this.accountId;
+		copy.acmapCode = this.acmapCode;
+		copy.brokerAccountNumber = this.brokerAccountNumber;
+		copy.brokerName = this.brokerName;
+		copy.clearingAgent = this.clearingAgent;
+		copy.counterPartyType = this.counterPartyType;
+		copy.crossAccountId = this.crossAccountId;
+		copy.cusip = this.cusip;
+		copy.exdivStatus = this.exdivStatus;
+		copy.fxRate = this.fxRate;
+		copy.gsn = this.gsn;
+		copy.marketCode = this.marketCode;
+		copy.matchTransactionRefNumber = this.matchTransactionRefNumber;
+		copy.processedDate = this.processedDate;
+		copy.prodId = this.prodId;
+		copy.productCedelNumber = this.productCedelNumber;
+		copy.productHubReference = this.productHubReference;
+		copy.productIsinNumber = this.productIsinNumber;
+		copy.profitCenter = this.profitCenter;
+		copy.settleDate = this.settleDate;
+		copy.tradeDate = this.tradeDate;
+		copy.trader = this.trader;
+		copy.trail1 = this.trail1;
+		copy.trail2 = this.trail2;
+		copy.trail3 = this.trail3;
+		copy.trail4 = this.trail4;
+		copy.trail5 = this.trail5;
+		copy.trail6 = this.trail6;
+		copy.trail7 = this.trail7;
+		copy.trail8 = this.trail8;
+		copy.transactionActionCode = this.transactionActionCode;
+		copy.transactionBuySell = this.transactionBuySell;
+		copy.transactionClose = this.transactionClose;
+		copy.transactionCode = this.transactionCode;
+		copy.transactionCost = this.transactionCost;
+		copy.transactionCostBase = this.transactionCostBase;
+		copy.transactionCostCurrency = this.transactionCostCurrency;
+		copy.transactionCurrency = this.transactionCurrency;
+		copy.transactionCustomer = this.transactionCustomer;
+		copy.transactionDeductAmount = this.transactionDeductAmount;
+		copy.transactionDeductBaseAmount = this.transactionDeductBaseAmount;
+		copy.transactionExecTime = this.transactionExecTime;
+		copy.transactionExtPrice = this.transactionExtPrice;
+		copy.transactionFactor = this.transactionFactor;
+		copy.transactionFactory = this.transactionFactory;
+		copy.transactionId = this.transactionId;
+		copy.transactionIgnore = this.transactionIgnore;
+		copy.transactionMemo = this.transactionMemo;
+		copy.transactionOffice = this.transactionOffice;
+		copy.transactionOrigFaceValue = this.transactionOrigFaceValue;
+		copy.transactionPrice = this.transactionPrice;
+		copy.transactionPurInt = this.transactionPurInt;
+		copy.transactionPurIntBase = this.transactionPurIntBase;
+		copy.transactionQuantity = this.transactionQuantity;
+		copy.transactionRefNumber = this.transactionRefNumber;
+		copy.transactionSettleAmount = this.transactionSettleAmount;
+		copy.transactionSettleBaseAmount = this.transactionSettleBaseAmount;
+		copy.transactionSettleCurrency = this.transactionSettleCurrency;
+		copy.transactionSource = this.transactionSource;
+		copy.transactionStatus = this.transactionStatus;
+		copy.transactionType = this.transactionType;
+		copy.transactionVersion = this.transactionVersion;
+		copy.transactionXferTaxA = this.transactionXferTaxA;
+		copy.transactionXferTaxB = this.transactionXferTaxB;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readInt();
+		this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.brokerAccountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.brokerName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.clearingAgent = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.counterPartyType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.crossAccountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.cusip = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.exdivStatus = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.fxRate = in.readDouble();
+		this.gsn = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.marketCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.matchTransactionRefNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.processedDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), GhostMessagePendingTransactionFinder.isFullCache(), GhostMessagePendingTransactionFinder.isOffHeap());
+		this.prodId = in.readInt();
+		this.productCedelNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.productHubReference = in.readInt();
+		this.productIsinNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.profitCenter = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.settleDate = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.tradeDate = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.trader = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.trail1 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.trail2 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.trail3 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.trail4 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.trail5 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.trail6 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.trail7 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.trail8 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionActionCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionBuySell = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionClose = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionCost = in.readDouble();
+		this.transactionCostBase = in.readDouble();
+		this.transactionCostCurrency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionCurrency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionCustomer = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionDeductAmount = in.readDouble();
+		this.transactionDeductBaseAmount = in.readDouble();
+		this.transactionExecTime = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionExtPrice = in.readDouble();
+		this.transactionFactor = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionFactory = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionId = in.readInt();
+		this.transactionIgnore = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionMemo = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionOffice = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionOrigFaceValue = in.readDouble();
+		this.transactionPrice = in.readDouble();
+		this.transactionPurInt = in.readDouble();
+		this.transactionPurIntBase = in.readDouble();
+		this.transactionQuantity = in.readDouble();
+		this.transactionRefNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionSettleAmount = in.readDouble();
+		this.transactionSettleBaseAmount = in.readDouble();
+		this.transactionSettleCurrency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionSource = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionStatus = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionVersion = in.readInt();
+		this.transactionXferTaxA = in.readDouble();
+		this.transactionXferTaxB = in.readDouble();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final GhostMessagePendingTransactionData otherData = (GhostMessagePendingTransactionData) other;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+		{
+			return false;
+		}
+
+		if (getTransactionId() != otherData.getTransactionId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.acmapCode);
+		out.writeInt(this.transactionId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GhostMessagePendingTransactionFinder.isFullCache());
+		this.transactionId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final GhostMessagePendingTransactionData ghostMessagePendingTransactionData = (GhostMessagePendingTransactionData) newData;
+		this.setAccountId(ghostMessagePendingTransactionData.getAccountId());
+		this.setAcmapCode(ghostMessagePendingTransactionData.getAcmapCode());
+		this.setBrokerAccountNumber(ghostMessagePendingTransactionData.getBrokerAccountNumber());
+		this.setBrokerName(ghostMessagePendingTransactionData.getBrokerName());
+		this.setClearingAgent(ghostMessagePendingTransactionData.getClearingAgent());
+		this.setCounterPartyType(ghostMessagePendingTransactionData.getCounterPartyType());
+		this.setCrossAccountId(ghostMessagePendingTransactionData.getCrossAccountId());
+		this.setCusip(ghostMessagePendingTransactionData.getCusip());
+		this.setExdivStatus(ghostMessagePendingTransactionData.getExdivStatus());
+		this.setFxRate(ghostMessagePendingTransactionData.getFxRate());
+		if (ghostMessagePendingTransactionData.isFxRateNull()) this.setFxRateNull();
+		this.setGsn(ghostMessagePendingTransactionData.getGsn());
+		this.setMarketCode(ghostMessagePendingTransactionData.getMarketCode());
+		this.setMatchTransactionRefNumber(ghostMessagePendingTransactionData.getMatchTransactionRefNumber());
+		this.setProcessedDate(ghostMessagePendingTransactionData.getProcessedDate());
+		this.setProdId(ghostMessagePendingTransactionData.getProdId());
+		if (ghostMessagePendingTransactionData.isProdIdNull()) this.setProdIdNull();
+		this.setProductCedelNumber(ghostMessagePendingTransactionData.getProductCedelNumber());
+		this.setProductHubReference(ghostMessagePendingTransactionData.getProductHubReference());
+		if (ghostMessagePendingTransactionData.isProductHubReferenceNull()) this.setProductHubReferenceNull();
+		this.setProductIsinNumber(ghostMessagePendingTransactionData.getProductIsinNumber());
+		this.setProfitCenter(ghostMessagePendingTransactionData.getProfitCenter());
+		this.setSettleDate(ghostMessagePendingTransactionData.getSettleDate());
+		this.setTradeDate(ghostMessagePendingTransactionData.getTradeDate());
+		this.setTrader(ghostMessagePendingTransactionData.getTrader());
+		this.setTrail1(ghostMessagePendingTransactionData.getTrail1());
+		this.setTrail2(ghostMessagePendingTransactionData.getTrail2());
+		this.setTrail3(ghostMessagePendingTransactionData.getTrail3());
+		this.setTrail4(ghostMessagePendingTransactionData.getTrail4());
+		this.setTrail5(ghostMessagePendingTransactionData.getTrail5());
+		this.setTrail6(ghostMessagePendingTransactionData.getTrail6());
+		this.setTrail7(ghostMessagePendingTransactionData.getTrail7());
+		this.setTrail8(ghostMessagePendingTransactionData.getTrail8());
+		this.setTransactionActionCode(ghostMessagePendingTransactionData.getTransactionActionCode());
+		this.setTransactionBuySell(ghostMessagePendingTransactionData.getTransactionBuySell());
+		this.setTransactionClose(ghostMessagePendingTransactionData.getTransactionClose());
+		this.setTransactionCode(ghostMessagePendingTransactionData.getTransactionCode());
+		this.setTransactionCost(ghostMessagePendingTransactionData.getTransactionCost());
+		if (ghostMessagePendingTransactionData.isTransactionCostNull()) this.setTransactionCostNull();
+		this.setTransactionCostBase(ghostMessagePendingTransactionData.getTransactionCostBase());
+		if (ghostMessagePendingTransactionData.isTransactionCostBaseNull()) this.setTransactionCostBaseNull();
+		this.setTransactionCostCurrency(ghostMessagePendingTransactionData.getTransactionCostCurrency());
+		this.setTransactionCurrency(ghostMessagePendingTransactionData.getTransactionCurrency());
+		this.setTransactionCustomer(ghostMessagePendingTransactionData.getTransactionCustomer());
+		this.setTransactionDeductAmount(ghostMessagePendingTransactionData.getTransactionDeductAmount());
+		if (ghostMessagePendingTransactionData.isTransactionDeductAmountNull()) this.setTransactionDeductAmountNull();
+		this.setTransactionDeductBaseAmount(ghostMessagePendingTransactionData.getTransactionDeductBaseAmount());
+		if (ghostMessagePendingTransactionData.isTransactionDeductBaseAmountNull()) this.setTransactionDeductBaseAmountNull();
+		this.setTransactionExecTime(ghostMessagePendingTransactionData.getTransactionExecTime());
+		this.setTransactionExtPrice(ghostMessagePendingTransactionData.getTransactionExtPrice());
+		if (ghostMessagePendingTransactionData.isTransactionExtPriceNull()) this.setTransactionExtPriceNull();
+		this.setTransactionFactor(ghostMessagePendingTransactionData.getTransactionFactor());
+		this.setTransactionFactory(ghostMessagePendingTransactionData.getTransactionFactory());
+		this.setTransactionIgnore(ghostMessagePendingTransactionData.getTransactionIgnore());
+		this.setTransactionMemo(ghostMessagePendingTransactionData.getTransactionMemo());
+		this.setTransactionOffice(ghostMessagePendingTransactionData.getTransactionOffice());
+		this.setTransactionOrigFaceValue(ghostMessagePendingTransactionData.getTransactionOrigFaceValue());
+		if (ghostMessagePendingTransactionData.isTransactionOrigFaceValueNull()) this.setTransactionOrigFaceValueNull();
+		this.setTransactionPrice(ghostMessagePendingTransactionData.getTransactionPrice());
+		if (ghostMessagePendingTransactionData.isTransactionPriceNull()) this.setTransactionPriceNull();
+		this.setTransactionPurInt(ghostMessagePendingTransactionData.getTransactionPurInt());
+		if (ghostMessagePendingTransactionData.isTransactionPurIntNull()) this.setTransactionPurIntNull();
+		this.setTransactionPurIntBase(ghostMessagePendingTransactionData.getTransactionPurIntBase());
+		if (ghostMessagePendingTransactionData.isTransactionPurIntBaseNull()) this.setTransactionPurIntBaseNull();
+		this.setTransactionQuantity(ghostMessagePendingTransactionData.getTransactionQuantity());
+		if (ghostMessagePendingTransactionData.isTransactionQuantityNull()) this.setTransactionQuantityNull();
+		this.setTransactionRefNumber(ghostMessagePendingTransactionData.getTransactionRefNumber());
+		this.setTransactionSettleAmount(ghostMessagePendingTransactionData.getTransactionSettleAmount());
+		if (ghostMessagePendingTransactionData.isTransactionSettleAmountNull()) this.setTransactionSettleAmountNull();
+		this.setTransactionSettleBaseAmount(ghostMessagePendingTransactionData.getTransactionSettleBaseAmount());
+		if (ghostMessagePendingTransactionData.isTransactionSettleBaseAmountNull()) this.setTransactionSettleBaseAmountNull();
+		this.setTransactionSettleCurrency(ghostMessagePendingTransactionData.getTransactionSettleCurrency());
+		this.setTransactionSource(ghostMessagePendingTransactionData.getTransactionSource());
+		this.setTransactionStatus(ghostMessagePendingTransactionData.getTransactionStatus());
+		this.setTransactionType(ghostMessagePendingTransactionData.getTransactionType());
+		this.setTransactionVersion(ghostMessagePendingTransactionData.getTransactionVersion());
+		if (ghostMessagePendingTransactionData.isTransactionVersionNull()) this.setTransactionVersionNull();
+		this.setTransactionXferTaxA(ghostMessagePendingTransactionData.getTransactionXferTaxA());
+		if (ghostMessagePendingTransactionData.isTransactionXferTaxANull()) this.setTransactionXferTaxANull();
+		this.setTransactionXferTaxB(ghostMessagePendingTransactionData.getTransactionXferTaxB());
+		if (ghostMessagePendingTransactionData.isTransactionXferTaxBNull()) this.setTransactionXferTaxBNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final GhostMessagePendingTransactionData other = (GhostMessagePendingTransactionData) newData;
+		if (!isAccountIdNull() ? !getAccountId().equals(other.getAccountId()) : !other.isAccountIdNull())
+		{
+			return true;
+		}
+
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		if (!isBrokerAccountNumberNull() ? !getBrokerAccountNumber().equals(other.getBrokerAccountNumber()) : !other.isBrokerAccountNumberNull())
+		{
+			return true;
+		}
+
+		if (!isBrokerNameNull() ? !getBrokerName().equals(other.getBrokerName()) : !other.isBrokerNameNull())
+		{
+			return true;
+		}
+
+		if (!isClearingAgentNull() ? !getClearingAgent().equals(other.getClearingAgent()) : !other.isClearingAgentNull())
+		{
+			return true;
+		}
+
+		if (!isCounterPartyTypeNull() ? !getCounterPartyType().equals(other.getCounterPartyType()) : !other.isCounterPartyTypeNull())
+		{
+			return true;
+		}
+
+		if (!isCrossAccountIdNull() ? !getCrossAccountId().equals(other.getCrossAccountId()) : !other.isCrossAccountIdNull())
+		{
+			return true;
+		}
+
+		if (!isCusipNull() ? !getCusip().equals(other.getCusip()) : !other.isCusipNull())
+		{
+			return true;
+		}
+
+		if (!isExdivStatusNull() ? !getExdivStatus().equals(other.getExdivStatus()) : !other.isExdivStatusNull())
+		{
+			return true;
+		}
+
+		if ( isFxRateNull() != other.isFxRateNull() || Math.abs(getFxRate() - other.getFxRate()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isGsnNull() ? !getGsn().equals(other.getGsn()) : !other.isGsnNull())
+		{
+			return true;
+		}
+
+		if (!isMarketCodeNull() ? !getMarketCode().equals(other.getMarketCode()) : !other.isMarketCodeNull())
+		{
+			return true;
+		}
+
+		if (!isMatchTransactionRefNumberNull() ? !getMatchTransactionRefNumber().equals(other.getMatchTransactionRefNumber()) : !other.isMatchTransactionRefNumberNull())
+		{
+			return true;
+		}
+
+		if (!isProcessedDateNull() ? !getProcessedDate().equals(other.getProcessedDate()) : !other.isProcessedDateNull())
+		{
+			return true;
+		}
+
+		if ( isProdIdNull() != other.isProdIdNull() || getProdId() != other.getProdId())
+		{
+			return true;
+		}
+
+		if (!isProductCedelNumberNull() ? !getProductCedelNumber().equals(other.getProductCedelNumber()) : !other.isProductCedelNumberNull())
+		{
+			return true;
+		}
+
+		if ( isProductHubReferenceNull() != other.isProductHubReferenceNull() || getProductHubReference() != other.getProductHubReference())
+		{
+			return true;
+		}
+
+		if (!isProductIsinNumberNull() ? !getProductIsinNumber().equals(other.getProductIsinNumber()) : !other.isProductIsinNumberNull())
+		{
+			return true;
+		}
+
+		if (!isProfitCenterNull() ? !getProfitCenter().equals(other.getProfitCenter()) : !other.isProfitCenterNull())
+		{
+			return true;
+		}
+
+		if (!isSettleDateNull() ? !getSettleDate().equals(other.getSettleDate()) : !other.isSettleDateNull())
+		{
+			return true;
+		}
+
+		if (!isTradeDateNull() ? !getTradeDate().equals(other.getTradeDate()) : !other.isTradeDateNull())
+		{
+			return true;
+		}
+
+		if (!isTraderNull() ? !getTrader().equals(other.getTrader()) : !other.isTraderNull())
+		{
+			return true;
+		}
+
+		if (!isTrail1Null() ? !getTrail1().equals(other.getTrail1()) : !other.isTrail1Null())
+		{
+			return true;
+		}
+
+		if (!isTrail2Null() ? !getTrail2().equals(other.getTrail2()) : !other.isTrail2Null())
+		{
+			return true;
+		}
+
+		if (!isTrail3Null() ? !getTrail3().equals(other.getTrail3()) : !other.isTrail3Null())
+		{
+			return true;
+		}
+
+		if (!isTrail4Null() ? !getTrail4().equals(other.getTrail4()) : !other.isTrail4Null())
+		{
+			return true;
+		}
+
+		if (!isTrail5Null() ? !getTrail5().equals(other.getTrail5()) : !other.isTrail5Null())
+		{
+			return true;
+		}
+
+		if (!isTrail6Null() ? !getTrail6().equals(other.getTrail6()) : !other.isTrail6Null())
+		{
+			return true;
+		}
+
+		if (!isTrail7Null() ? !getTrail7().equals(other.getTrail7()) : !other.isTrail7Null())
+		{
+			return true;
+		}
+
+		if (!isTrail8Null() ? !getTrail8().equals(other.getTrail8()) : !other.isTrail8Null())
+		{
+			return true;
+		}
+
+		if (!isTransactionActionCodeNull() ? !getTransactionActionCode().equals(other.getTransactionActionCode()) : !other.isTransactionActionCodeNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionBuySellNull() ? !getTransactionBuySell().equals(other.getTransactionBuySell()) : !other.isTransactionBuySellNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionCloseNull() ? !getTransactionClose().equals(other.getTransactionClose()) : !other.isTransactionCloseNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionCodeNull() ? !getTransactionCode().equals(other.getTransactionCode()) : !other.isTransactionCodeNull())
+		{
+			return true;
+		}
+
+		if ( isTransactionCostNull() != other.isTransactionCostNull() || Math.abs(getTransactionCost() - other.getTransactionCost()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTransactionCostBaseNull() != other.isTransactionCostBaseNull() || Math.abs(getTransactionCostBase() - other.getTransactionCostBase()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isTransactionCostCurrencyNull() ? !getTransactionCostCurrency().equals(other.getTransactionCostCurrency()) : !other.isTransactionCostCurrencyNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionCurrencyNull() ? !getTransactionCurrency().equals(other.getTransactionCurrency()) : !other.isTransactionCurrencyNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionCustomerNull() ? !getTransactionCustomer().equals(other.getTransactionCustomer()) : !other.isTransactionCustomerNull())
+		{
+			return true;
+		}
+
+		if ( isTransactionDeductAmountNull() != other.isTransactionDeductAmountNull() || Math.abs(getTransactionDeductAmount() - other.getTransactionDeductAmount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTransactionDeductBaseAmountNull() != other.isTransactionDeductBaseAmountNull() || Math.abs(getTransactionDeductBaseAmount() - other.getTransactionDeductBaseAmount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isTransactionExecTimeNull() ? !getTransactionExecTime().equals(other.getTransactionExecTime()) : !other.isTransactionExecTimeNull())
+		{
+			return true;
+		}
+
+		if ( isTransactionExtPriceNull() != other.isTransactionExtPriceNull() || Math.abs(getTransactionExtPrice() - other.getTransactionExtPrice()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isTransactionFactorNull() ? !getTransactionFactor().equals(other.getTransactionFactor()) : !other.isTransactionFactorNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionFactoryNull() ? !getTransactionFactory().equals(other.getTransactionFactory()) : !other.isTransactionFactoryNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionIgnoreNull() ? !getTransactionIgnore().equals(other.getTransactionIgnore()) : !other.isTransactionIgnoreNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionMemoNull() ? !getTransactionMemo().equals(other.getTransactionMemo()) : !other.isTransactionMemoNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionOfficeNull() ? !getTransactionOffice().equals(other.getTransactionOffice()) : !other.isTransactionOfficeNull())
+		{
+			return true;
+		}
+
+		if ( isTransactionOrigFaceValueNull() != other.isTransactionOrigFaceValueNull() || Math.abs(getTransactionOrigFaceValue() - other.getTransactionOrigFaceValue()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTransactionPriceNull() != other.isTransactionPriceNull() || Math.abs(getTransactionPrice() - other.getTransactionPrice()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTransactionPurIntNull() != other.isTransactionPurIntNull() || Math.abs(getTransactionPurInt() - other.getTransactionPurInt()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTransactionPurIntBaseNull() != other.isTransactionPurIntBaseNull() || Math.abs(getTransactionPurIntBase() - other.getTransactionPurIntBase()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTransactionQuantityNull() != other.isTransactionQuantityNull() || Math.abs(getTransactionQuantity() - other.getTransactionQuantity()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isTransactionRefNumberNull() ? !getTransactionRefNumber().equals(other.getTransactionRefNumber()) : !other.isTransactionRefNumberNull())
+		{
+			return true;
+		}
+
+		if ( isTransactionSettleAmountNull() != other.isTransactionSettleAmountNull() || Math.abs(getTransactionSettleAmount() - other.getTransactionSettleAmount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTransactionSettleBaseAmountNull() != other.isTransactionSettleBaseAmountNull() || Math.abs(getTransactionSettleBaseAmount() - other.getTransactionSettleBaseAmount()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isTransactionSettleCurrencyNull() ? !getTransactionSettleCurrency().equals(other.getTransactionSettleCurrency()) : !other.isTransactionSettleCurrencyNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionSourceNull() ? !getTransactionSource().equals(other.getTransactionSource()) : !other.isTransactionSourceNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionStatusNull() ? !getTransactionStatus().equals(other.getTransactionStatus()) : !other.isTransactionStatusNull())
+		{
+			return true;
+		}
+
+		if (!isTransactionTypeNull() ? !getTransactionType().equals(other.getTransactionType()) : !other.isTransactionTypeNull())
+		{
+			return true;
+		}
+
+		if ( isTransactionVersionNull() != other.isTransactionVersionNull() || getTransactionVersion() != other.getTransactionVersion())
+		{
+			return true;
+		}
+
+		if ( isTransactionXferTaxANull() != other.isTransactionXferTaxANull() || Math.abs(getTransactionXferTaxA() - other.getTransactionXferTaxA()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isTransactionXferTaxBNull() != other.isTransactionXferTaxBNull() || Math.abs(getTransactionXferTaxB() - other.getTransactionXferTaxB()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		GhostMessagePendingTransactionData copy = new GhostMessagePendingTransactionData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		GhostMessagePendingTransactionData copy = new GhostMessagePendingTransactionData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+		result += "transactionId: "+(""+getTransactionId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.GhostMessagePendingTransactionData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return GhostMessagePendingTransactionFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return GhostMessagePendingTransactionFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.GhostMessagePendingTransactionData";
+	}
+}
@@ -0,0 +1,1180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class GhostMessagePendingTransactionDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "TRAN_TYPE,ACCT_NBR_C,PROFIT_CENTRE,PROD_SEC_ID_I,PROD_SEC_NBR_C,PROD_SEC_CUSIP_C,PROD_ISIN_NBR_C,PROD_HUB_REF_I,PROD_CEDEL_NBR_C,TRANS_BUY_SELL_C,TRADE_DATE,SETTLE_DATE,TRANS_CCY_C,TRANS_QUANTITY_M,TRANS_STATUS_C,TRANS_ACTION_CODE_C,TRAN_REF_NBR,MATCH_TRAN_REF_NBR,TRANS_PRICE_M,TRANS_COST_CCY_C,TRANS_COST_M,TRANS_COST_BASE_M,TRANS_PUR_INT_M,TRANS_PUR_INT_BASE_M,TRANS_SETTLE_CCY_C,TRANS_SETTLE_AMT_M,TRANS_SETTLE_BASE_M,TRANS_DEDUCT_AMT_M,TRANS_DEDUCT_BASE_M,TRANS_ORG_FACE_VAL_M,TRANS_FACTOR_C,TRANS_XFER_TAX_A_M,TRANS_XFER_TAX_B_M,FX_RATE_M,TRANS_CODE_C,MARKET_CODE_C,EXDIV_STATUS,TRANS_CUST_C,CROSS_ACCT_NBR_C,COUNTER_PTY_TYPE_C,BROKER_ACCT_NBR_C,BROKER_NAME_C,TRANS_OFFICE_C,CLEARING_AGENT_C,TRADER_C,TRANS_EXT_PRICE_M,TRANS_EXEC_TIME_C,TRANS_MEMO_C,TRANS_SOURCE_C,TRANS_CLOSE_F,TRANS_VERSION_I,TRANS_FACTORY,TRANS_IGNORE,TRAIL_1,TRAIL_2,TRAIL_3,TRAIL_4,TRAIL_5,TRAIL_6,TRAIL_7,TRAIL_8,IN_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.TRAN_TYPE,t0.ACCT_NBR_C,t0.PROFIT_CENTRE,t0.PROD_SEC_ID_I,t0.PROD_SEC_NBR_C,t0.PROD_SEC_CUSIP_C,t0.PROD_ISIN_NBR_C,t0.PROD_HUB_REF_I,t0.PROD_CEDEL_NBR_C,t0.TRANS_BUY_SELL_C,t0.TRADE_DATE,t0.SETTLE_DATE,t0.TRANS_CCY_C,t0.TRANS_QUANTITY_M,t0.TRANS_STATUS_C,t0.TRANS_ACTION_CODE_C,t0.TRAN_REF_NBR,t0.MATCH_TRAN_REF_NBR,t0.TRANS_PRICE_M,t0.TRANS_COST_CCY_C,t0.TRANS_COST_M,t0.TRANS_COST_BASE_M,t0.TRANS_PUR_INT_M,t0.TRANS_PUR_INT_BASE_M,t0.TRANS_SETTLE_CCY_C,t0.TRANS_SETTLE_AMT_M,t0.TRANS_SETTLE_BASE_M,t0.TRANS_DEDUCT_AMT_M,t0.TRANS_DEDUCT_BASE_M,t0.TRANS_ORG_FACE_VAL_M,t0.TRANS_FACTOR_C,t0.TRANS_XFER_TAX_A_M,t0.TRANS_XFER_TAX_B_M,t0.FX_RATE_M,t0.TRANS_CODE_C,t0.MARKET_CODE_C,t0.EXDIV_STATUS,t0.TRANS_CUST_C,t0.CROSS_ACCT_NBR_C,t0.COUNTER_PTY_TYPE_C,t0.BROKER_ACCT_NBR_C,t0.BROKER_NAME_C,t0.TRANS_OFFICE_C,t0.CLEARING_AGENT_C,t0.TRADER_C,t0.TRANS_EXT_PRICE_M,t0.TRANS_EXEC_TIME_C,t0.TRANS_MEMO_C,t0.TRANS_SOURCE_C,t0.TRANS_CLOSE_F,t0.TRANS_VERSION_I,t0.TRANS_FACTORY,t0.TRANS_IGNORE,t0.TRAIL_1,t0.TRAIL_2,t0.TRAIL_3,t0.TRAIL_4,t0.TRAIL_5,t0.TRAIL_6,t0.TRAIL_7,t0.TRAIL_8,t0.IN_Z";
+	private static final String PK_WITH_ALIAS = "t0.TRAN_ID = ?";
+	private static final String PK_INDEX_COLS = "TRAN_ID";
+	protected GhostMessagePendingTransactionDatabaseObjectAbstract()
+	{
+		super("GhostMessagePendingTransaction", "com.gs.fw.common.mithra.test.domain.GhostMessagePendingTransactionFinder",
+			63, 63,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return GhostMessagePendingTransactionFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return GhostMessagePendingTransactionFinder.getFinderInstance();
+	}
+
+	public static GhostMessagePendingTransactionData allocateOnHeapData()
+	{
+		return new GhostMessagePendingTransactionData();
+	}
+
+	public static GhostMessagePendingTransactionData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new GhostMessagePendingTransactionData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		GhostMessagePendingTransactionData data = new GhostMessagePendingTransactionData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(GhostMessagePendingTransactionFinder.getPrimaryKeyAttributes(), this, GhostMessagePendingTransactionFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(GhostMessagePendingTransactionFinder.getPrimaryKeyAttributes(), this, GhostMessagePendingTransactionFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(GhostMessagePendingTransactionFinder.getPrimaryKeyAttributes(), this, GhostMessagePendingTransactionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(GhostMessagePendingTransactionFinder.getPrimaryKeyAttributes(), this, GhostMessagePendingTransactionFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			GhostMessagePendingTransactionFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			GhostMessagePendingTransactionFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			GhostMessagePendingTransaction.zConfigFullTx();
+		}
+		else
+		{
+			GhostMessagePendingTransaction.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData)object;
+		return data.getAcmapCode();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateGhostMessagePendingTransactionData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkGhostMessagePendingTransactionData(1, (GhostMessagePendingTransactionData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateGhostMessagePendingTransactionPkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getGhostMessagePendingTransactionTableName(((String)source));
+	}
+
+	public String getGhostMessagePendingTransactionTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTransactionId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "TRAN_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TRAN_ID,t0.TRAN_TYPE,t0.ACCT_NBR_C,t0.PROFIT_CENTRE,t0.PROD_SEC_ID_I,t0.PROD_SEC_NBR_C,t0.PROD_SEC_CUSIP_C,t0.PROD_ISIN_NBR_C,t0.PROD_HUB_REF_I,t0.PROD_CEDEL_NBR_C,t0.TRANS_BUY_SELL_C,t0.TRADE_DATE,t0.SETTLE_DATE,t0.TRANS_CCY_C,t0.TRANS_QUANTITY_M,t0.TRANS_STATUS_C,t0.TRANS_ACTION_CODE_C,t0.TRAN_REF_NBR,t0.MATCH_TRAN_REF_NBR,t0.TRANS_PRICE_M,t0.TRANS_COST_CCY_C,t0.TRANS_COST_M,t0.TRANS_COST_BASE_M,t0.TRANS_PUR_INT_M,t0.TRANS_PUR_INT_BASE_M,t0.TRANS_SETTLE_CCY_C,t0.TRANS_SETTLE_AMT_M,t0.TRANS_SETTLE_BASE_M,t0.TRANS_DEDUCT_AMT_M,t0.TRANS_DEDUCT_BASE_M,t0.TRANS_ORG_FACE_VAL_M,t0.TRANS_FACTOR_C,t0.TRANS_XFER_TAX_A_M,t0.TRANS_XFER_TAX_B_M,t0.FX_RATE_M,t0.TRANS_CODE_C,t0.MARKET_CODE_C,t0.EXDIV_STATUS,t0.TRANS_CUST_C,t0.CROSS_ACCT_NBR_C,t0.COUNTER_PTY_TYPE_C,t0.BROKER_ACCT_NBR_C,t0.BROKER_NAME_C,t0.TRANS_OFFICE_C,t0.CLEARING_AGENT_C,t0.TRADER_C,t0.TRANS_EXT_PRICE_M,t0.TRANS_EXEC_TIME_C,t0.TRANS_MEMO_C,t0.TRANS_SOURCE_C,t0.TRANS_CLOSE_F,t0.TRANS_VERSION_I,t0.TRANS_FACTORY,t0.TRANS_IGNORE,t0.TRAIL_1,t0.TRAIL_2,t0.TRAIL_3,t0.TRAIL_4,t0.TRAIL_5,t0.TRAIL_6,t0.TRAIL_7,t0.TRAIL_8,t0.IN_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*63);
+		result.append(databaseAlias).append(".").append("TRAN_ID");
+		result.append(",").append(databaseAlias).append(".").append("TRAN_TYPE");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("PROFIT_CENTRE");
+		result.append(",").append(databaseAlias).append(".").append("PROD_SEC_ID_I");
+		result.append(",").append(databaseAlias).append(".").append("PROD_SEC_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_SEC_CUSIP_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_ISIN_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_HUB_REF_I");
+		result.append(",").append(databaseAlias).append(".").append("PROD_CEDEL_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_BUY_SELL_C");
+		result.append(",").append(databaseAlias).append(".").append("TRADE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("SETTLE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_CCY_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_QUANTITY_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_STATUS_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_ACTION_CODE_C");
+		result.append(",").append(databaseAlias).append(".").append("TRAN_REF_NBR");
+		result.append(",").append(databaseAlias).append(".").append("MATCH_TRAN_REF_NBR");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_PRICE_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_COST_CCY_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_COST_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_COST_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_PUR_INT_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_PUR_INT_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_SETTLE_CCY_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_SETTLE_AMT_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_SETTLE_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_DEDUCT_AMT_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_DEDUCT_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_ORG_FACE_VAL_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_FACTOR_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_XFER_TAX_A_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_XFER_TAX_B_M");
+		result.append(",").append(databaseAlias).append(".").append("FX_RATE_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_CODE_C");
+		result.append(",").append(databaseAlias).append(".").append("MARKET_CODE_C");
+		result.append(",").append(databaseAlias).append(".").append("EXDIV_STATUS");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_CUST_C");
+		result.append(",").append(databaseAlias).append(".").append("CROSS_ACCT_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("COUNTER_PTY_TYPE_C");
+		result.append(",").append(databaseAlias).append(".").append("BROKER_ACCT_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("BROKER_NAME_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_OFFICE_C");
+		result.append(",").append(databaseAlias).append(".").append("CLEARING_AGENT_C");
+		result.append(",").append(databaseAlias).append(".").append("TRADER_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_EXT_PRICE_M");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_EXEC_TIME_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_MEMO_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_SOURCE_C");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_CLOSE_F");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_VERSION_I");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_FACTORY");
+		result.append(",").append(databaseAlias).append(".").append("TRANS_IGNORE");
+		result.append(",").append(databaseAlias).append(".").append("TRAIL_1");
+		result.append(",").append(databaseAlias).append(".").append("TRAIL_2");
+		result.append(",").append(databaseAlias).append(".").append("TRAIL_3");
+		result.append(",").append(databaseAlias).append(".").append("TRAIL_4");
+		result.append(",").append(databaseAlias).append(".").append("TRAIL_5");
+		result.append(",").append(databaseAlias).append(".").append("TRAIL_6");
+		result.append(",").append(databaseAlias).append(".").append("TRAIL_7");
+		result.append(",").append(databaseAlias).append(".").append("TRAIL_8");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public GhostMessagePendingTransactionData inflateGhostMessagePendingTransactionData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		GhostMessagePendingTransactionData data = inflateGhostMessagePendingTransactionPkData(rs, dt, sourceAttribute);
+		inflateNonPkGhostMessagePendingTransactionData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public GhostMessagePendingTransactionData inflateGhostMessagePendingTransactionPkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		GhostMessagePendingTransactionData _data = new GhostMessagePendingTransactionData();
+		int _pos = 1;
+		_data.setAcmapCode(sourceAttribute);
+		_data.setTransactionId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "transactionId");
+		return _data;
+	}
+
+	public void inflateNonPkGhostMessagePendingTransactionData(int _pos, GhostMessagePendingTransactionData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			GhostMessagePendingTransactionData _data = _datax;
+			_data.setTransactionType(trimString(_rs.getString(_pos++)));
+			_data.setAccountId(trimString(_rs.getString(_pos++)));
+			_data.setProfitCenter(trimString(_rs.getString(_pos++)));
+			_data.setProdId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProdIdNull();
+			}
+
+			_data.setGsn(trimString(_rs.getString(_pos++)));
+			_data.setCusip(trimString(_rs.getString(_pos++)));
+			_data.setProductIsinNumber(trimString(_rs.getString(_pos++)));
+			_data.setProductHubReference(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProductHubReferenceNull();
+			}
+
+			_data.setProductCedelNumber(trimString(_rs.getString(_pos++)));
+			_data.setTransactionBuySell(trimString(_rs.getString(_pos++)));
+			_data.setTradeDate(trimString(_rs.getString(_pos++)));
+			_data.setSettleDate(trimString(_rs.getString(_pos++)));
+			_data.setTransactionCurrency(trimString(_rs.getString(_pos++)));
+			_data.setTransactionQuantity(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionQuantityNull();
+			}
+
+			_data.setTransactionStatus(trimString(_rs.getString(_pos++)));
+			_data.setTransactionActionCode(trimString(_rs.getString(_pos++)));
+			_data.setTransactionRefNumber(trimString(_rs.getString(_pos++)));
+			_data.setMatchTransactionRefNumber(trimString(_rs.getString(_pos++)));
+			_data.setTransactionPrice(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionPriceNull();
+			}
+
+			_data.setTransactionCostCurrency(trimString(_rs.getString(_pos++)));
+			_data.setTransactionCost(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionCostNull();
+			}
+
+			_data.setTransactionCostBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionCostBaseNull();
+			}
+
+			_data.setTransactionPurInt(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionPurIntNull();
+			}
+
+			_data.setTransactionPurIntBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionPurIntBaseNull();
+			}
+
+			_data.setTransactionSettleCurrency(trimString(_rs.getString(_pos++)));
+			_data.setTransactionSettleAmount(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionSettleAmountNull();
+			}
+
+			_data.setTransactionSettleBaseAmount(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionSettleBaseAmountNull();
+			}
+
+			_data.setTransactionDeductAmount(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionDeductAmountNull();
+			}
+
+			_data.setTransactionDeductBaseAmount(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionDeductBaseAmountNull();
+			}
+
+			_data.setTransactionOrigFaceValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionOrigFaceValueNull();
+			}
+
+			_data.setTransactionFactor(trimString(_rs.getString(_pos++)));
+			_data.setTransactionXferTaxA(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionXferTaxANull();
+			}
+
+			_data.setTransactionXferTaxB(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionXferTaxBNull();
+			}
+
+			_data.setFxRate(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFxRateNull();
+			}
+
+			_data.setTransactionCode(trimString(_rs.getString(_pos++)));
+			_data.setMarketCode(trimString(_rs.getString(_pos++)));
+			_data.setExdivStatus(trimString(_rs.getString(_pos++)));
+			_data.setTransactionCustomer(trimString(_rs.getString(_pos++)));
+			_data.setCrossAccountId(trimString(_rs.getString(_pos++)));
+			_data.setCounterPartyType(trimString(_rs.getString(_pos++)));
+			_data.setBrokerAccountNumber(trimString(_rs.getString(_pos++)));
+			_data.setBrokerName(trimString(_rs.getString(_pos++)));
+			_data.setTransactionOffice(trimString(_rs.getString(_pos++)));
+			_data.setClearingAgent(trimString(_rs.getString(_pos++)));
+			_data.setTrader(trimString(_rs.getString(_pos++)));
+			_data.setTransactionExtPrice(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionExtPriceNull();
+			}
+
+			_data.setTransactionExecTime(trimString(_rs.getString(_pos++)));
+			_data.setTransactionMemo(trimString(_rs.getString(_pos++)));
+			_data.setTransactionSource(trimString(_rs.getString(_pos++)));
+			_data.setTransactionClose(trimString(_rs.getString(_pos++)));
+			_data.setTransactionVersion(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTransactionVersionNull();
+			}
+
+			_data.setTransactionFactory(trimString(_rs.getString(_pos++)));
+			_data.setTransactionIgnore(trimString(_rs.getString(_pos++)));
+			_data.setTrail1(trimString(_rs.getString(_pos++)));
+			_data.setTrail2(trimString(_rs.getString(_pos++)));
+			_data.setTrail3(trimString(_rs.getString(_pos++)));
+			_data.setTrail4(trimString(_rs.getString(_pos++)));
+			_data.setTrail5(trimString(_rs.getString(_pos++)));
+			_data.setTrail6(trimString(_rs.getString(_pos++)));
+			_data.setTrail7(trimString(_rs.getString(_pos++)));
+			_data.setTrail8(trimString(_rs.getString(_pos++)));
+			Timestamp processedDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessedDate(processedDatetimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TGHOST_TRAN";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTransactionId());
+		if (data.isTransactionTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionType());
+		}
+
+		if (data.isAccountIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAccountId());
+		}
+
+		if (data.isProfitCenterNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProfitCenter());
+		}
+
+		if (data.isProdIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getProdId());
+		}
+
+		if (data.isGsnNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getGsn());
+		}
+
+		if (data.isCusipNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getCusip());
+		}
+
+		if (data.isProductIsinNumberNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProductIsinNumber());
+		}
+
+		if (data.isProductHubReferenceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getProductHubReference());
+		}
+
+		if (data.isProductCedelNumberNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProductCedelNumber());
+		}
+
+		if (data.isTransactionBuySellNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionBuySell());
+		}
+
+		if (data.isTradeDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTradeDate());
+		}
+
+		if (data.isSettleDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getSettleDate());
+		}
+
+		if (data.isTransactionCurrencyNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionCurrency());
+		}
+
+		if (data.isTransactionQuantityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionQuantity());
+		}
+
+		if (data.isTransactionStatusNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionStatus());
+		}
+
+		if (data.isTransactionActionCodeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionActionCode());
+		}
+
+		if (data.isTransactionRefNumberNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionRefNumber());
+		}
+
+		if (data.isMatchTransactionRefNumberNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getMatchTransactionRefNumber());
+		}
+
+		if (data.isTransactionPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionPrice());
+		}
+
+		if (data.isTransactionCostCurrencyNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionCostCurrency());
+		}
+
+		if (data.isTransactionCostNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionCost());
+		}
+
+		if (data.isTransactionCostBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionCostBase());
+		}
+
+		if (data.isTransactionPurIntNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionPurInt());
+		}
+
+		if (data.isTransactionPurIntBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionPurIntBase());
+		}
+
+		if (data.isTransactionSettleCurrencyNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionSettleCurrency());
+		}
+
+		if (data.isTransactionSettleAmountNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionSettleAmount());
+		}
+
+		if (data.isTransactionSettleBaseAmountNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionSettleBaseAmount());
+		}
+
+		if (data.isTransactionDeductAmountNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionDeductAmount());
+		}
+
+		if (data.isTransactionDeductBaseAmountNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionDeductBaseAmount());
+		}
+
+		if (data.isTransactionOrigFaceValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionOrigFaceValue());
+		}
+
+		if (data.isTransactionFactorNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionFactor());
+		}
+
+		if (data.isTransactionXferTaxANull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionXferTaxA());
+		}
+
+		if (data.isTransactionXferTaxBNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionXferTaxB());
+		}
+
+		if (data.isFxRateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFxRate());
+		}
+
+		if (data.isTransactionCodeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionCode());
+		}
+
+		if (data.isMarketCodeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getMarketCode());
+		}
+
+		if (data.isExdivStatusNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getExdivStatus());
+		}
+
+		if (data.isTransactionCustomerNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionCustomer());
+		}
+
+		if (data.isCrossAccountIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getCrossAccountId());
+		}
+
+		if (data.isCounterPartyTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getCounterPartyType());
+		}
+
+		if (data.isBrokerAccountNumberNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getBrokerAccountNumber());
+		}
+
+		if (data.isBrokerNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getBrokerName());
+		}
+
+		if (data.isTransactionOfficeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionOffice());
+		}
+
+		if (data.isClearingAgentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getClearingAgent());
+		}
+
+		if (data.isTraderNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrader());
+		}
+
+		if (data.isTransactionExtPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTransactionExtPrice());
+		}
+
+		if (data.isTransactionExecTimeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionExecTime());
+		}
+
+		if (data.isTransactionMemoNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionMemo());
+		}
+
+		if (data.isTransactionSourceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionSource());
+		}
+
+		if (data.isTransactionCloseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionClose());
+		}
+
+		if (data.isTransactionVersionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getTransactionVersion());
+		}
+
+		if (data.isTransactionFactoryNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionFactory());
+		}
+
+		if (data.isTransactionIgnoreNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionIgnore());
+		}
+
+		if (data.isTrail1Null())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrail1());
+		}
+
+		if (data.isTrail2Null())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrail2());
+		}
+
+		if (data.isTrail3Null())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrail3());
+		}
+
+		if (data.isTrail4Null())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrail4());
+		}
+
+		if (data.isTrail5Null())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrail5());
+		}
+
+		if (data.isTrail6Null())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrail6());
+		}
+
+		if (data.isTrail7Null())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrail7());
+		}
+
+		if (data.isTrail8Null())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrail8());
+		}
+
+		if (data.isProcessedDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessedDate(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "TRAN_ID,TRAN_TYPE,ACCT_NBR_C,PROFIT_CENTRE,PROD_SEC_ID_I,PROD_SEC_NBR_C,PROD_SEC_CUSIP_C,PROD_ISIN_NBR_C,PROD_HUB_REF_I,PROD_CEDEL_NBR_C,TRANS_BUY_SELL_C,TRADE_DATE,SETTLE_DATE,TRANS_CCY_C,TRANS_QUANTITY_M,TRANS_STATUS_C,TRANS_ACTION_CODE_C,TRAN_REF_NBR,MATCH_TRAN_REF_NBR,TRANS_PRICE_M,TRANS_COST_CCY_C,TRANS_COST_M,TRANS_COST_BASE_M,TRANS_PUR_INT_M,TRANS_PUR_INT_BASE_M,TRANS_SETTLE_CCY_C,TRANS_SETTLE_AMT_M,TRANS_SETTLE_BASE_M,TRANS_DEDUCT_AMT_M,TRANS_DEDUCT_BASE_M,TRANS_ORG_FACE_VAL_M,TRANS_FACTOR_C,TRANS_XFER_TAX_A_M,TRANS_XFER_TAX_B_M,FX_RATE_M,TRANS_CODE_C,MARKET_CODE_C,EXDIV_STATUS,TRANS_CUST_C,CROSS_ACCT_NBR_C,COUNTER_PTY_TYPE_C,BROKER_ACCT_NBR_C,BROKER_NAME_C,TRANS_OFFICE_C,CLEARING_AGENT_C,TRADER_C,TRANS_EXT_PRICE_M,TRANS_EXEC_TIME_C,TRANS_MEMO_C,TRANS_SOURCE_C,TRANS_CLOSE_F,TRANS_VERSION_I,TRANS_FACTORY,TRANS_IGNORE,TRAIL_1,TRAIL_2,TRAIL_3,TRAIL_4,TRAIL_5,TRAIL_6,TRAIL_7,TRAIL_8,IN_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		GhostMessagePendingTransaction newObject = new GhostMessagePendingTransaction();
+		newObject.zSetFromGhostMessagePendingTransactionData((GhostMessagePendingTransactionData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TRAN_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*63);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("TRAN_ID");
+		return result.toString();
+	}
+}
@@ -0,0 +1,2004 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class GhostMessagePendingTransactionFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/GhostMessagePendingTransaction";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.GhostMessagePendingTransaction";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.GhostMessagePendingTransaction");
+	private static final GhostMessagePendingTransactionSingleFinder<GhostMessagePendingTransaction, Object, GhostMessagePendingTransaction> finder = new GhostMessagePendingTransactionSingleFinder<GhostMessagePendingTransaction, Object, GhostMessagePendingTransaction>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(GhostMessagePendingTransactionFinder.GhostMessagePendingTransactionRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("transactionId");
+		finderMethodMap.addNormalAttributeName("transactionType");
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("profitCenter");
+		finderMethodMap.addNormalAttributeName("prodId");
+		finderMethodMap.addNormalAttributeName("gsn");
+		finderMethodMap.addNormalAttributeName("cusip");
+		finderMethodMap.addNormalAttributeName("productIsinNumber");
+		finderMethodMap.addNormalAttributeName("productHubReference");
+		finderMethodMap.addNormalAttributeName("productCedelNumber");
+		finderMethodMap.addNormalAttributeName("transactionBuySell");
+		finderMethodMap.addNormalAttributeName("tradeDate");
+		finderMethodMap.addNormalAttributeName("settleDate");
+		finderMethodMap.addNormalAttributeName("transactionCurrency");
+		finderMethodMap.addNormalAttributeName("transactionQuantity");
+		finderMethodMap.addNormalAttributeName("transactionStatus");
+		finderMethodMap.addNormalAttributeName("transactionActionCode");
+		finderMethodMap.addNormalAttributeName("transactionRefNumber");
+		finderMethodMap.addNormalAttributeName("matchTransactionRefNumber");
+		finderMethodMap.addNormalAttributeName("transactionPrice");
+		finderMethodMap.addNormalAttributeName("transactionCostCurrency");
+		finderMethodMap.addNormalAttributeName("transactionCost");
+		finderMethodMap.addNormalAttributeName("transactionCostBase");
+		finderMethodMap.addNormalAttributeName("transactionPurInt");
+		finderMethodMap.addNormalAttributeName("transactionPurIntBase");
+		finderMethodMap.addNormalAttributeName("transactionSettleCurrency");
+		finderMethodMap.addNormalAttributeName("transactionSettleAmount");
+		finderMethodMap.addNormalAttributeName("transactionSettleBaseAmount");
+		finderMethodMap.addNormalAttributeName("transactionDeductAmount");
+		finderMethodMap.addNormalAttributeName("transactionDeductBaseAmount");
+		finderMethodMap.addNormalAttributeName("transactionOrigFaceValue");
+		finderMethodMap.addNormalAttributeName("transactionFactor");
+		finderMethodMap.addNormalAttributeName("transactionXferTaxA");
+		finderMethodMap.addNormalAttributeName("transactionXferTaxB");
+		finderMethodMap.addNormalAttributeName("fxRate");
+		finderMethodMap.addNormalAttributeName("transactionCode");
+		finderMethodMap.addNormalAttributeName("marketCode");
+		finderMethodMap.addNormalAttributeName("exdivStatus");
+		finderMethodMap.addNormalAttributeName("transactionCustomer");
+		finderMethodMap.addNormalAttributeName("crossAccountId");
+		finderMethodMap.addNormalAttributeName("counterPartyType");
+		finderMethodMap.addNormalAttributeName("brokerAccountNumber");
+		finderMethodMap.addNormalAttributeName("brokerName");
+		finderMethodMap.addNormalAttributeName("transactionOffice");
+		finderMethodMap.addNormalAttributeName("clearingAgent");
+		finderMethodMap.addNormalAttributeName("trader");
+		finderMethodMap.addNormalAttributeName("transactionExtPrice");
+		finderMethodMap.addNormalAttributeName("transactionExecTime");
+		finderMethodMap.addNormalAttributeName("transactionMemo");
+		finderMethodMap.addNormalAttributeName("transactionSource");
+		finderMethodMap.addNormalAttributeName("transactionClose");
+		finderMethodMap.addNormalAttributeName("transactionVersion");
+		finderMethodMap.addNormalAttributeName("transactionFactory");
+		finderMethodMap.addNormalAttributeName("transactionIgnore");
+		finderMethodMap.addNormalAttributeName("trail1");
+		finderMethodMap.addNormalAttributeName("trail2");
+		finderMethodMap.addNormalAttributeName("trail3");
+		finderMethodMap.addNormalAttributeName("trail4");
+		finderMethodMap.addNormalAttributeName("trail5");
+		finderMethodMap.addNormalAttributeName("trail6");
+		finderMethodMap.addNormalAttributeName("trail7");
+		finderMethodMap.addNormalAttributeName("trail8");
+		finderMethodMap.addNormalAttributeName("processedDate");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return GhostMessagePendingTransactionFinder.zSourceAttributeType;
+	}
+
+	public static GhostMessagePendingTransaction findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static GhostMessagePendingTransaction findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static GhostMessagePendingTransactionList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (GhostMessagePendingTransactionList) finder.findMany(operation);
+	}
+
+	public static GhostMessagePendingTransactionList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (GhostMessagePendingTransactionList) finder.findManyBypassCache(operation);
+	}
+
+	private static GhostMessagePendingTransaction findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (GhostMessagePendingTransaction) FinderUtils.findOne(found);
+	}
+
+	public static GhostMessagePendingTransaction findByPrimaryKey(int transactionId, String acmapCode)
+	{
+		return finder.findByPrimaryKey(transactionId, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			GhostMessagePendingTransactionData _castedTargetData = (GhostMessagePendingTransactionData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getTransactionId() && _bean.getO1AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static GhostMessagePendingTransaction zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (GhostMessagePendingTransaction) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class GhostMessagePendingTransactionRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<GhostMessagePendingTransaction, ParentOwnerType, ReturnType, ReturnListType, OwnerType> implements AbstractGhostMessageTransactionFinder<GhostMessagePendingTransaction>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return GhostMessagePendingTransactionFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> transactionId;
+		private StringAttribute<ParentOwnerType> transactionType;
+		private StringAttribute<ParentOwnerType> accountId;
+		private StringAttribute<ParentOwnerType> profitCenter;
+		private IntegerAttribute<ParentOwnerType> prodId;
+		private StringAttribute<ParentOwnerType> gsn;
+		private StringAttribute<ParentOwnerType> cusip;
+		private StringAttribute<ParentOwnerType> productIsinNumber;
+		private IntegerAttribute<ParentOwnerType> productHubReference;
+		private StringAttribute<ParentOwnerType> productCedelNumber;
+		private StringAttribute<ParentOwnerType> transactionBuySell;
+		private StringAttribute<ParentOwnerType> tradeDate;
+		private StringAttribute<ParentOwnerType> settleDate;
+		private StringAttribute<ParentOwnerType> transactionCurrency;
+		private DoubleAttribute<ParentOwnerType> transactionQuantity;
+		private StringAttribute<ParentOwnerType> transactionStatus;
+		private StringAttribute<ParentOwnerType> transactionActionCode;
+		private StringAttribute<ParentOwnerType> transactionRefNumber;
+		private StringAttribute<ParentOwnerType> matchTransactionRefNumber;
+		private DoubleAttribute<ParentOwnerType> transactionPrice;
+		private StringAttribute<ParentOwnerType> transactionCostCurrency;
+		private DoubleAttribute<ParentOwnerType> transactionCost;
+		private DoubleAttribute<ParentOwnerType> transactionCostBase;
+		private DoubleAttribute<ParentOwnerType> transactionPurInt;
+		private DoubleAttribute<ParentOwnerType> transactionPurIntBase;
+		private StringAttribute<ParentOwnerType> transactionSettleCurrency;
+		private DoubleAttribute<ParentOwnerType> transactionSettleAmount;
+		private DoubleAttribute<ParentOwnerType> transactionSettleBaseAmount;
+		private DoubleAttribute<ParentOwnerType> transactionDeductAmount;
+		private DoubleAttribute<ParentOwnerType> transactionDeductBaseAmount;
+		private DoubleAttribute<ParentOwnerType> transactionOrigFaceValue;
+		private StringAttribute<ParentOwnerType> transactionFactor;
+		private DoubleAttribute<ParentOwnerType> transactionXferTaxA;
+		private DoubleAttribute<ParentOwnerType> transactionXferTaxB;
+		private DoubleAttribute<ParentOwnerType> fxRate;
+		private StringAttribute<ParentOwnerType> transactionCode;
+		private StringAttribute<ParentOwnerType> marketCode;
+		private StringAttribute<ParentOwnerType> exdivStatus;
+		private StringAttribute<ParentOwnerType> transactionCustomer;
+		private StringAttribute<ParentOwnerType> crossAccountId;
+		private StringAttribute<ParentOwnerType> counterPartyType;
+		private StringAttribute<ParentOwnerType> brokerAccountNumber;
+		private StringAttribute<ParentOwnerType> brokerName;
+		private StringAttribute<ParentOwnerType> transactionOffice;
+		private StringAttribute<ParentOwnerType> clearingAgent;
+		private StringAttribute<ParentOwnerType> trader;
+		private DoubleAttribute<ParentOwnerType> transactionExtPrice;
+		private StringAttribute<ParentOwnerType> transactionExecTime;
+		private StringAttribute<ParentOwnerType> transactionMemo;
+		private StringAttribute<ParentOwnerType> transactionSource;
+		private StringAttribute<ParentOwnerType> transactionClose;
+		private IntegerAttribute<ParentOwnerType> transactionVersion;
+		private StringAttribute<ParentOwnerType> transactionFactory;
+		private StringAttribute<ParentOwnerType> transactionIgnore;
+		private StringAttribute<ParentOwnerType> trail1;
+		private StringAttribute<ParentOwnerType> trail2;
+		private StringAttribute<ParentOwnerType> trail3;
+		private StringAttribute<ParentOwnerType> trail4;
+		private StringAttribute<ParentOwnerType> trail5;
+		private StringAttribute<ParentOwnerType> trail6;
+		private StringAttribute<ParentOwnerType> trail7;
+		private StringAttribute<ParentOwnerType> trail8;
+		private TimestampAttribute<ParentOwnerType> processedDate;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		public GhostMessagePendingTransactionRelatedFinder()
+		{
+			super();
+		}
+
+		public GhostMessagePendingTransactionRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.GhostMessagePendingTransactionFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return GhostMessagePendingTransactionFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return GhostMessagePendingTransactionFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return GhostMessagePendingTransactionFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[63];
+			attributes[0] = this.transactionId();
+			attributes[1] = this.transactionType();
+			attributes[2] = this.accountId();
+			attributes[3] = this.profitCenter();
+			attributes[4] = this.prodId();
+			attributes[5] = this.gsn();
+			attributes[6] = this.cusip();
+			attributes[7] = this.productIsinNumber();
+			attributes[8] = this.productHubReference();
+			attributes[9] = this.productCedelNumber();
+			attributes[10] = this.transactionBuySell();
+			attributes[11] = this.tradeDate();
+			attributes[12] = this.settleDate();
+			attributes[13] = this.transactionCurrency();
+			attributes[14] = this.transactionQuantity();
+			attributes[15] = this.transactionStatus();
+			attributes[16] = this.transactionActionCode();
+			attributes[17] = this.transactionRefNumber();
+			attributes[18] = this.matchTransactionRefNumber();
+			attributes[19] = this.transactionPrice();
+			attributes[20] = this.transactionCostCurrency();
+			attributes[21] = this.transactionCost();
+			attributes[22] = this.transactionCostBase();
+			attributes[23] = this.transactionPurInt();
+			attributes[24] = this.transactionPurIntBase();
+			attributes[25] = this.transactionSettleCurrency();
+			attributes[26] = this.transactionSettleAmount();
+			attributes[27] = this.transactionSettleBaseAmount();
+			attributes[28] = this.transactionDeductAmount();
+			attributes[29] = this.transactionDeductBaseAmount();
+			attributes[30] = this.transactionOrigFaceValue();
+			attributes[31] = this.transactionFactor();
+			attributes[32] = this.transactionXferTaxA();
+			attributes[33] = this.transactionXferTaxB();
+			attributes[34] = this.fxRate();
+			attributes[35] = this.transactionCode();
+			attributes[36] = this.marketCode();
+			attributes[37] = this.exdivStatus();
+			attributes[38] = this.transactionCustomer();
+			attributes[39] = this.crossAccountId();
+			attributes[40] = this.counterPartyType();
+			attributes[41] = this.brokerAccountNumber();
+			attributes[42] = this.brokerName();
+			attributes[43] = this.transactionOffice();
+			attributes[44] = this.clearingAgent();
+			attributes[45] = this.trader();
+			attributes[46] = this.transactionExtPrice();
+			attributes[47] = this.transactionExecTime();
+			attributes[48] = this.transactionMemo();
+			attributes[49] = this.transactionSource();
+			attributes[50] = this.transactionClose();
+			attributes[51] = this.transactionVersion();
+			attributes[52] = this.transactionFactory();
+			attributes[53] = this.transactionIgnore();
+			attributes[54] = this.trail1();
+			attributes[55] = this.trail2();
+			attributes[56] = this.trail3();
+			attributes[57] = this.trail4();
+			attributes[58] = this.trail5();
+			attributes[59] = this.trail6();
+			attributes[60] = this.trail7();
+			attributes[61] = this.trail8();
+			attributes[62] = this.processedDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public GhostMessagePendingTransaction findOne(com.gs.fw.finder.Operation operation)
+		{
+			return GhostMessagePendingTransactionFinder.findOne(operation, false);
+		}
+
+		public GhostMessagePendingTransaction findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return GhostMessagePendingTransactionFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends GhostMessagePendingTransaction> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new GhostMessagePendingTransactionList((Operation) operation);
+		}
+
+		public MithraList<? extends GhostMessagePendingTransaction> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			GhostMessagePendingTransactionList result = (GhostMessagePendingTransactionList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends GhostMessagePendingTransaction> constructEmptyList()
+		{
+			return new GhostMessagePendingTransactionList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1709970028;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return GhostMessagePendingTransactionFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> transactionId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.transactionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TRAN_ID","","transactionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(GhostMessagePendingTransactionFinder.transactionId(), this.mapper, this.zGetValueSelector());
+				this.transactionId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionType()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAN_TYPE","","transactionType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionType(), this.mapper, this.zGetValueSelector());
+				this.transactionType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_NBR_C","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.accountId(), this.mapper, this.zGetValueSelector());
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> profitCenter()
+		{
+			StringAttribute<ParentOwnerType> result = this.profitCenter;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROFIT_CENTRE","","profitCenter",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.profitCenter(), this.mapper, this.zGetValueSelector());
+				this.profitCenter = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> prodId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.prodId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_SEC_ID_I","","prodId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(GhostMessagePendingTransactionFinder.prodId(), this.mapper, this.zGetValueSelector());
+				this.prodId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> gsn()
+		{
+			StringAttribute<ParentOwnerType> result = this.gsn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_SEC_NBR_C","","gsn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.gsn(), this.mapper, this.zGetValueSelector());
+				this.gsn = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> cusip()
+		{
+			StringAttribute<ParentOwnerType> result = this.cusip;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_SEC_CUSIP_C","","cusip",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.cusip(), this.mapper, this.zGetValueSelector());
+				this.cusip = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productIsinNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.productIsinNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_ISIN_NBR_C","","productIsinNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.productIsinNumber(), this.mapper, this.zGetValueSelector());
+				this.productIsinNumber = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productHubReference()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productHubReference;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_HUB_REF_I","","productHubReference",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(GhostMessagePendingTransactionFinder.productHubReference(), this.mapper, this.zGetValueSelector());
+				this.productHubReference = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productCedelNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.productCedelNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_CEDEL_NBR_C","","productCedelNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.productCedelNumber(), this.mapper, this.zGetValueSelector());
+				this.productCedelNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionBuySell()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionBuySell;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_BUY_SELL_C","","transactionBuySell",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionBuySell(), this.mapper, this.zGetValueSelector());
+				this.transactionBuySell = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> tradeDate()
+		{
+			StringAttribute<ParentOwnerType> result = this.tradeDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRADE_DATE","","tradeDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.tradeDate(), this.mapper, this.zGetValueSelector());
+				this.tradeDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> settleDate()
+		{
+			StringAttribute<ParentOwnerType> result = this.settleDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("SETTLE_DATE","","settleDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.settleDate(), this.mapper, this.zGetValueSelector());
+				this.settleDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionCurrency()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionCurrency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_CCY_C","","transactionCurrency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionCurrency(), this.mapper, this.zGetValueSelector());
+				this.transactionCurrency = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionQuantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionQuantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_QUANTITY_M","","transactionQuantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionQuantity(), this.mapper, this.zGetValueSelector());
+				this.transactionQuantity = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionStatus()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionStatus;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_STATUS_C","","transactionStatus",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionStatus(), this.mapper, this.zGetValueSelector());
+				this.transactionStatus = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionActionCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionActionCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_ACTION_CODE_C","","transactionActionCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionActionCode(), this.mapper, this.zGetValueSelector());
+				this.transactionActionCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionRefNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionRefNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAN_REF_NBR","","transactionRefNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionRefNumber(), this.mapper, this.zGetValueSelector());
+				this.transactionRefNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> matchTransactionRefNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.matchTransactionRefNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("MATCH_TRAN_REF_NBR","","matchTransactionRefNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.matchTransactionRefNumber(), this.mapper, this.zGetValueSelector());
+				this.matchTransactionRefNumber = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_PRICE_M","","transactionPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionPrice(), this.mapper, this.zGetValueSelector());
+				this.transactionPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionCostCurrency()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionCostCurrency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_COST_CCY_C","","transactionCostCurrency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionCostCurrency(), this.mapper, this.zGetValueSelector());
+				this.transactionCostCurrency = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionCost()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionCost;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_COST_M","","transactionCost",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionCost(), this.mapper, this.zGetValueSelector());
+				this.transactionCost = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionCostBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionCostBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_COST_BASE_M","","transactionCostBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionCostBase(), this.mapper, this.zGetValueSelector());
+				this.transactionCostBase = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionPurInt()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionPurInt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_PUR_INT_M","","transactionPurInt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionPurInt(), this.mapper, this.zGetValueSelector());
+				this.transactionPurInt = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionPurIntBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionPurIntBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_PUR_INT_BASE_M","","transactionPurIntBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionPurIntBase(), this.mapper, this.zGetValueSelector());
+				this.transactionPurIntBase = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionSettleCurrency()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionSettleCurrency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_SETTLE_CCY_C","","transactionSettleCurrency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionSettleCurrency(), this.mapper, this.zGetValueSelector());
+				this.transactionSettleCurrency = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionSettleAmount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionSettleAmount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_SETTLE_AMT_M","","transactionSettleAmount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionSettleAmount(), this.mapper, this.zGetValueSelector());
+				this.transactionSettleAmount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionSettleBaseAmount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionSettleBaseAmount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_SETTLE_BASE_M","","transactionSettleBaseAmount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionSettleBaseAmount(), this.mapper, this.zGetValueSelector());
+				this.transactionSettleBaseAmount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionDeductAmount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionDeductAmount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_DEDUCT_AMT_M","","transactionDeductAmount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionDeductAmount(), this.mapper, this.zGetValueSelector());
+				this.transactionDeductAmount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionDeductBaseAmount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionDeductBaseAmount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_DEDUCT_BASE_M","","transactionDeductBaseAmount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionDeductBaseAmount(), this.mapper, this.zGetValueSelector());
+				this.transactionDeductBaseAmount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionOrigFaceValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionOrigFaceValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_ORG_FACE_VAL_M","","transactionOrigFaceValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionOrigFaceValue(), this.mapper, this.zGetValueSelector());
+				this.transactionOrigFaceValue = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionFactor()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionFactor;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_FACTOR_C","","transactionFactor",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionFactor(), this.mapper, this.zGetValueSelector());
+				this.transactionFactor = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionXferTaxA()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionXferTaxA;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_XFER_TAX_A_M","","transactionXferTaxA",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionXferTaxA(), this.mapper, this.zGetValueSelector());
+				this.transactionXferTaxA = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionXferTaxB()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionXferTaxB;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_XFER_TAX_B_M","","transactionXferTaxB",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionXferTaxB(), this.mapper, this.zGetValueSelector());
+				this.transactionXferTaxB = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fxRate()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fxRate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FX_RATE_M","","fxRate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.fxRate(), this.mapper, this.zGetValueSelector());
+				this.fxRate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_CODE_C","","transactionCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionCode(), this.mapper, this.zGetValueSelector());
+				this.transactionCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> marketCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.marketCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("MARKET_CODE_C","","marketCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.marketCode(), this.mapper, this.zGetValueSelector());
+				this.marketCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> exdivStatus()
+		{
+			StringAttribute<ParentOwnerType> result = this.exdivStatus;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("EXDIV_STATUS","","exdivStatus",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.exdivStatus(), this.mapper, this.zGetValueSelector());
+				this.exdivStatus = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionCustomer()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionCustomer;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_CUST_C","","transactionCustomer",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionCustomer(), this.mapper, this.zGetValueSelector());
+				this.transactionCustomer = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> crossAccountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.crossAccountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CROSS_ACCT_NBR_C","","crossAccountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.crossAccountId(), this.mapper, this.zGetValueSelector());
+				this.crossAccountId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> counterPartyType()
+		{
+			StringAttribute<ParentOwnerType> result = this.counterPartyType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("COUNTER_PTY_TYPE_C","","counterPartyType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.counterPartyType(), this.mapper, this.zGetValueSelector());
+				this.counterPartyType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> brokerAccountNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.brokerAccountNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("BROKER_ACCT_NBR_C","","brokerAccountNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.brokerAccountNumber(), this.mapper, this.zGetValueSelector());
+				this.brokerAccountNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> brokerName()
+		{
+			StringAttribute<ParentOwnerType> result = this.brokerName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("BROKER_NAME_C","","brokerName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.brokerName(), this.mapper, this.zGetValueSelector());
+				this.brokerName = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionOffice()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionOffice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_OFFICE_C","","transactionOffice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionOffice(), this.mapper, this.zGetValueSelector());
+				this.transactionOffice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> clearingAgent()
+		{
+			StringAttribute<ParentOwnerType> result = this.clearingAgent;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CLEARING_AGENT_C","","clearingAgent",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.clearingAgent(), this.mapper, this.zGetValueSelector());
+				this.clearingAgent = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trader()
+		{
+			StringAttribute<ParentOwnerType> result = this.trader;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRADER_C","","trader",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.trader(), this.mapper, this.zGetValueSelector());
+				this.trader = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transactionExtPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transactionExtPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANS_EXT_PRICE_M","","transactionExtPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(GhostMessagePendingTransactionFinder.transactionExtPrice(), this.mapper, this.zGetValueSelector());
+				this.transactionExtPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionExecTime()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionExecTime;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_EXEC_TIME_C","","transactionExecTime",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionExecTime(), this.mapper, this.zGetValueSelector());
+				this.transactionExecTime = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionMemo()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionMemo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_MEMO_C","","transactionMemo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionMemo(), this.mapper, this.zGetValueSelector());
+				this.transactionMemo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionSource()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionSource;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_SOURCE_C","","transactionSource",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionSource(), this.mapper, this.zGetValueSelector());
+				this.transactionSource = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionClose()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionClose;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_CLOSE_F","","transactionClose",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionClose(), this.mapper, this.zGetValueSelector());
+				this.transactionClose = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> transactionVersion()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.transactionVersion;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TRANS_VERSION_I","","transactionVersion",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(GhostMessagePendingTransactionFinder.transactionVersion(), this.mapper, this.zGetValueSelector());
+				this.transactionVersion = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionFactory()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionFactory;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_FACTORY","","transactionFactory",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionFactory(), this.mapper, this.zGetValueSelector());
+				this.transactionFactory = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionIgnore()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionIgnore;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRANS_IGNORE","","transactionIgnore",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.transactionIgnore(), this.mapper, this.zGetValueSelector());
+				this.transactionIgnore = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trail1()
+		{
+			StringAttribute<ParentOwnerType> result = this.trail1;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAIL_1","","trail1",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.trail1(), this.mapper, this.zGetValueSelector());
+				this.trail1 = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trail2()
+		{
+			StringAttribute<ParentOwnerType> result = this.trail2;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAIL_2","","trail2",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.trail2(), this.mapper, this.zGetValueSelector());
+				this.trail2 = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trail3()
+		{
+			StringAttribute<ParentOwnerType> result = this.trail3;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAIL_3","","trail3",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.trail3(), this.mapper, this.zGetValueSelector());
+				this.trail3 = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trail4()
+		{
+			StringAttribute<ParentOwnerType> result = this.trail4;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAIL_4","","trail4",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.trail4(), this.mapper, this.zGetValueSelector());
+				this.trail4 = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trail5()
+		{
+			StringAttribute<ParentOwnerType> result = this.trail5;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAIL_5","","trail5",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.trail5(), this.mapper, this.zGetValueSelector());
+				this.trail5 = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trail6()
+		{
+			StringAttribute<ParentOwnerType> result = this.trail6;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAIL_6","","trail6",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.trail6(), this.mapper, this.zGetValueSelector());
+				this.trail6 = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trail7()
+		{
+			StringAttribute<ParentOwnerType> result = this.trail7;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAIL_7","","trail7",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.trail7(), this.mapper, this.zGetValueSelector());
+				this.trail7 = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trail8()
+		{
+			StringAttribute<ParentOwnerType> result = this.trail8;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAIL_8","","trail8",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.trail8(), this.mapper, this.zGetValueSelector());
+				this.trail8 = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processedDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processedDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processedDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(GhostMessagePendingTransactionFinder.processedDate(), this.mapper, this.zGetValueSelector());
+				this.processedDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(GhostMessagePendingTransactionFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return GhostMessagePendingTransactionFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return GhostMessagePendingTransactionFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return GhostMessagePendingTransactionFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class GhostMessagePendingTransactionCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends GhostMessagePendingTransactionRelatedFinder<ParentOwnerType, ReturnType, GhostMessagePendingTransactionList, OwnerType>
+	{
+		public GhostMessagePendingTransactionCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class GhostMessagePendingTransactionCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends GhostMessagePendingTransactionCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public GhostMessagePendingTransactionCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class GhostMessagePendingTransactionSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends GhostMessagePendingTransactionRelatedFinder<ParentOwnerType, ReturnType, GhostMessagePendingTransactionList, OwnerType>
+	implements ToOneFinder
+	{
+		public GhostMessagePendingTransactionSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public GhostMessagePendingTransactionSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(GhostMessagePendingTransaction other)
+		{
+			return this.transactionId().eq(other.getTransactionId())
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public GhostMessagePendingTransaction findByPrimaryKey(int transactionId, String acmapCode)
+		{
+			GhostMessagePendingTransaction _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(transactionId);
+				_bean.setO1(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (GhostMessagePendingTransaction) _related;
+			if (_related == null)
+			{
+				_op = this.transactionId().eq(transactionId).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class GhostMessagePendingTransactionSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends GhostMessagePendingTransactionSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public GhostMessagePendingTransactionSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TGHOST_TRAN.TRAN_ID **/
+	public static IntegerAttribute<GhostMessagePendingTransaction> transactionId()
+	{
+		return finder.transactionId();
+	}
+
+	/** maps to TGHOST_TRAN.TRAN_TYPE **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionType()
+	{
+		return finder.transactionType();
+	}
+
+	/** maps to TGHOST_TRAN.ACCT_NBR_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to TGHOST_TRAN.PROFIT_CENTRE **/
+	public static StringAttribute<GhostMessagePendingTransaction> profitCenter()
+	{
+		return finder.profitCenter();
+	}
+
+	/** maps to TGHOST_TRAN.PROD_SEC_ID_I **/
+	public static IntegerAttribute<GhostMessagePendingTransaction> prodId()
+	{
+		return finder.prodId();
+	}
+
+	/** maps to TGHOST_TRAN.PROD_SEC_NBR_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> gsn()
+	{
+		return finder.gsn();
+	}
+
+	/** maps to TGHOST_TRAN.PROD_SEC_CUSIP_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> cusip()
+	{
+		return finder.cusip();
+	}
+
+	/** maps to TGHOST_TRAN.PROD_ISIN_NBR_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> productIsinNumber()
+	{
+		return finder.productIsinNumber();
+	}
+
+	/** maps to TGHOST_TRAN.PROD_HUB_REF_I **/
+	public static IntegerAttribute<GhostMessagePendingTransaction> productHubReference()
+	{
+		return finder.productHubReference();
+	}
+
+	/** maps to TGHOST_TRAN.PROD_CEDEL_NBR_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> productCedelNumber()
+	{
+		return finder.productCedelNumber();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_BUY_SELL_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionBuySell()
+	{
+		return finder.transactionBuySell();
+	}
+
+	/** maps to TGHOST_TRAN.TRADE_DATE **/
+	public static StringAttribute<GhostMessagePendingTransaction> tradeDate()
+	{
+		return finder.tradeDate();
+	}
+
+	/** maps to TGHOST_TRAN.SETTLE_DATE **/
+	public static StringAttribute<GhostMessagePendingTransaction> settleDate()
+	{
+		return finder.settleDate();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_CCY_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionCurrency()
+	{
+		return finder.transactionCurrency();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_QUANTITY_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionQuantity()
+	{
+		return finder.transactionQuantity();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_STATUS_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionStatus()
+	{
+		return finder.transactionStatus();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_ACTION_CODE_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionActionCode()
+	{
+		return finder.transactionActionCode();
+	}
+
+	/** maps to TGHOST_TRAN.TRAN_REF_NBR **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionRefNumber()
+	{
+		return finder.transactionRefNumber();
+	}
+
+	/** maps to TGHOST_TRAN.MATCH_TRAN_REF_NBR **/
+	public static StringAttribute<GhostMessagePendingTransaction> matchTransactionRefNumber()
+	{
+		return finder.matchTransactionRefNumber();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_PRICE_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionPrice()
+	{
+		return finder.transactionPrice();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_COST_CCY_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionCostCurrency()
+	{
+		return finder.transactionCostCurrency();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_COST_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionCost()
+	{
+		return finder.transactionCost();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_COST_BASE_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionCostBase()
+	{
+		return finder.transactionCostBase();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_PUR_INT_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionPurInt()
+	{
+		return finder.transactionPurInt();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_PUR_INT_BASE_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionPurIntBase()
+	{
+		return finder.transactionPurIntBase();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_SETTLE_CCY_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionSettleCurrency()
+	{
+		return finder.transactionSettleCurrency();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_SETTLE_AMT_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionSettleAmount()
+	{
+		return finder.transactionSettleAmount();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_SETTLE_BASE_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionSettleBaseAmount()
+	{
+		return finder.transactionSettleBaseAmount();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_DEDUCT_AMT_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionDeductAmount()
+	{
+		return finder.transactionDeductAmount();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_DEDUCT_BASE_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionDeductBaseAmount()
+	{
+		return finder.transactionDeductBaseAmount();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_ORG_FACE_VAL_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionOrigFaceValue()
+	{
+		return finder.transactionOrigFaceValue();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_FACTOR_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionFactor()
+	{
+		return finder.transactionFactor();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_XFER_TAX_A_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionXferTaxA()
+	{
+		return finder.transactionXferTaxA();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_XFER_TAX_B_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionXferTaxB()
+	{
+		return finder.transactionXferTaxB();
+	}
+
+	/** maps to TGHOST_TRAN.FX_RATE_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> fxRate()
+	{
+		return finder.fxRate();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_CODE_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionCode()
+	{
+		return finder.transactionCode();
+	}
+
+	/** maps to TGHOST_TRAN.MARKET_CODE_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> marketCode()
+	{
+		return finder.marketCode();
+	}
+
+	/** maps to TGHOST_TRAN.EXDIV_STATUS **/
+	public static StringAttribute<GhostMessagePendingTransaction> exdivStatus()
+	{
+		return finder.exdivStatus();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_CUST_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionCustomer()
+	{
+		return finder.transactionCustomer();
+	}
+
+	/** maps to TGHOST_TRAN.CROSS_ACCT_NBR_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> crossAccountId()
+	{
+		return finder.crossAccountId();
+	}
+
+	/** maps to TGHOST_TRAN.COUNTER_PTY_TYPE_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> counterPartyType()
+	{
+		return finder.counterPartyType();
+	}
+
+	/** maps to TGHOST_TRAN.BROKER_ACCT_NBR_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> brokerAccountNumber()
+	{
+		return finder.brokerAccountNumber();
+	}
+
+	/** maps to TGHOST_TRAN.BROKER_NAME_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> brokerName()
+	{
+		return finder.brokerName();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_OFFICE_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionOffice()
+	{
+		return finder.transactionOffice();
+	}
+
+	/** maps to TGHOST_TRAN.CLEARING_AGENT_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> clearingAgent()
+	{
+		return finder.clearingAgent();
+	}
+
+	/** maps to TGHOST_TRAN.TRADER_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> trader()
+	{
+		return finder.trader();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_EXT_PRICE_M **/
+	public static DoubleAttribute<GhostMessagePendingTransaction> transactionExtPrice()
+	{
+		return finder.transactionExtPrice();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_EXEC_TIME_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionExecTime()
+	{
+		return finder.transactionExecTime();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_MEMO_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionMemo()
+	{
+		return finder.transactionMemo();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_SOURCE_C **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionSource()
+	{
+		return finder.transactionSource();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_CLOSE_F **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionClose()
+	{
+		return finder.transactionClose();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_VERSION_I **/
+	public static IntegerAttribute<GhostMessagePendingTransaction> transactionVersion()
+	{
+		return finder.transactionVersion();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_FACTORY **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionFactory()
+	{
+		return finder.transactionFactory();
+	}
+
+	/** maps to TGHOST_TRAN.TRANS_IGNORE **/
+	public static StringAttribute<GhostMessagePendingTransaction> transactionIgnore()
+	{
+		return finder.transactionIgnore();
+	}
+
+	/** maps to TGHOST_TRAN.TRAIL_1 **/
+	public static StringAttribute<GhostMessagePendingTransaction> trail1()
+	{
+		return finder.trail1();
+	}
+
+	/** maps to TGHOST_TRAN.TRAIL_2 **/
+	public static StringAttribute<GhostMessagePendingTransaction> trail2()
+	{
+		return finder.trail2();
+	}
+
+	/** maps to TGHOST_TRAN.TRAIL_3 **/
+	public static StringAttribute<GhostMessagePendingTransaction> trail3()
+	{
+		return finder.trail3();
+	}
+
+	/** maps to TGHOST_TRAN.TRAIL_4 **/
+	public static StringAttribute<GhostMessagePendingTransaction> trail4()
+	{
+		return finder.trail4();
+	}
+
+	/** maps to TGHOST_TRAN.TRAIL_5 **/
+	public static StringAttribute<GhostMessagePendingTransaction> trail5()
+	{
+		return finder.trail5();
+	}
+
+	/** maps to TGHOST_TRAN.TRAIL_6 **/
+	public static StringAttribute<GhostMessagePendingTransaction> trail6()
+	{
+		return finder.trail6();
+	}
+
+	/** maps to TGHOST_TRAN.TRAIL_7 **/
+	public static StringAttribute<GhostMessagePendingTransaction> trail7()
+	{
+		return finder.trail7();
+	}
+
+	/** maps to TGHOST_TRAN.TRAIL_8 **/
+	public static StringAttribute<GhostMessagePendingTransaction> trail8()
+	{
+		return finder.trail8();
+	}
+
+	/** maps to TGHOST_TRAN.IN_Z **/
+	public static TimestampAttribute<GhostMessagePendingTransaction> processedDate()
+	{
+		return finder.processedDate();
+	}
+
+	public static StringAttribute<GhostMessagePendingTransaction> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static Operation eq(GhostMessagePendingTransaction other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(transactionId());
+	}
+
+	public static GhostMessagePendingTransactionSingleFinder<GhostMessagePendingTransaction, Object, GhostMessagePendingTransaction> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			transactionId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			transactionId()
+			, transactionId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[15];
+		result[0] = transactionQuantity();
+		result[1] = transactionPrice();
+		result[2] = transactionCost();
+		result[3] = transactionCostBase();
+		result[4] = transactionPurInt();
+		result[5] = transactionPurIntBase();
+		result[6] = transactionSettleAmount();
+		result[7] = transactionSettleBaseAmount();
+		result[8] = transactionDeductAmount();
+		result[9] = transactionDeductBaseAmount();
+		result[10] = transactionOrigFaceValue();
+		result[11] = transactionXferTaxA();
+		result[12] = transactionXferTaxB();
+		result[13] = fxRate();
+		result[14] = transactionExtPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.GhostMessagePendingTransaction");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
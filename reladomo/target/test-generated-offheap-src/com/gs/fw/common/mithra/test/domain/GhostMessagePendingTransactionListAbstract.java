@@ -0,0 +1,535 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class GhostMessagePendingTransactionListAbstract extends DelegatingList<GhostMessagePendingTransaction> implements MithraTransactionalList<GhostMessagePendingTransaction>
+{
+	public GhostMessagePendingTransactionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public GhostMessagePendingTransactionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public GhostMessagePendingTransactionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public GhostMessagePendingTransactionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public GhostMessagePendingTransaction[] elements()
+	{
+		GhostMessagePendingTransaction[] result = new GhostMessagePendingTransaction[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public GhostMessagePendingTransactionList intersection(GhostMessagePendingTransactionList another)
+	{
+		return (GhostMessagePendingTransactionList)super.intersection(another);
+	}
+
+	public GhostMessagePendingTransaction getGhostMessagePendingTransactionAt(int index)
+	{
+		return (GhostMessagePendingTransaction)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return GhostMessagePendingTransactionFinder.getMithraObjectPortal();
+	}
+
+	public GhostMessagePendingTransactionList getNonPersistentCopy()
+	{
+		GhostMessagePendingTransactionList result = new GhostMessagePendingTransactionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public GhostMessagePendingTransactionList asAdhoc()
+	{
+		return (GhostMessagePendingTransactionList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<GhostMessagePendingTransaction> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public GhostMessagePendingTransactionList merge(MithraTransactionalList<GhostMessagePendingTransaction> incoming, TopLevelMergeOptions<GhostMessagePendingTransaction> mergeOptions)
+	{
+		return (GhostMessagePendingTransactionList) super.merge(incoming, mergeOptions);
+	}
+
+	public GhostMessagePendingTransactionList getDetachedCopy()
+	{
+		GhostMessagePendingTransactionList result = new GhostMessagePendingTransactionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setTransactionId(int newValue)
+	{
+		zSetInteger(GhostMessagePendingTransactionFinder.transactionId(), newValue);
+	}
+
+	public void setTransactionType(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionType(), newValue);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.accountId(), newValue);
+	}
+
+	public void setProfitCenter(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.profitCenter(), newValue);
+	}
+
+	public void setProdId(int newValue)
+	{
+		zSetInteger(GhostMessagePendingTransactionFinder.prodId(), newValue);
+	}
+
+	public void setGsn(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.gsn(), newValue);
+	}
+
+	public void setCusip(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.cusip(), newValue);
+	}
+
+	public void setProductIsinNumber(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.productIsinNumber(), newValue);
+	}
+
+	public void setProductHubReference(int newValue)
+	{
+		zSetInteger(GhostMessagePendingTransactionFinder.productHubReference(), newValue);
+	}
+
+	public void setProductCedelNumber(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.productCedelNumber(), newValue);
+	}
+
+	public void setTransactionBuySell(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionBuySell(), newValue);
+	}
+
+	public void setTradeDate(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.tradeDate(), newValue);
+	}
+
+	public void setSettleDate(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.settleDate(), newValue);
+	}
+
+	public void setTransactionCurrency(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionCurrency(), newValue);
+	}
+
+	public void setTransactionQuantity(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionQuantity(), newValue);
+	}
+
+	public void setTransactionStatus(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionStatus(), newValue);
+	}
+
+	public void setTransactionActionCode(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionActionCode(), newValue);
+	}
+
+	public void setTransactionRefNumber(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionRefNumber(), newValue);
+	}
+
+	public void setMatchTransactionRefNumber(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.matchTransactionRefNumber(), newValue);
+	}
+
+	public void setTransactionPrice(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionPrice(), newValue);
+	}
+
+	public void setTransactionCostCurrency(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionCostCurrency(), newValue);
+	}
+
+	public void setTransactionCost(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionCost(), newValue);
+	}
+
+	public void setTransactionCostBase(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionCostBase(), newValue);
+	}
+
+	public void setTransactionPurInt(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionPurInt(), newValue);
+	}
+
+	public void setTransactionPurIntBase(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionPurIntBase(), newValue);
+	}
+
+	public void setTransactionSettleCurrency(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionSettleCurrency(), newValue);
+	}
+
+	public void setTransactionSettleAmount(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionSettleAmount(), newValue);
+	}
+
+	public void setTransactionSettleBaseAmount(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionSettleBaseAmount(), newValue);
+	}
+
+	public void setTransactionDeductAmount(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionDeductAmount(), newValue);
+	}
+
+	public void setTransactionDeductBaseAmount(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionDeductBaseAmount(), newValue);
+	}
+
+	public void setTransactionOrigFaceValue(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionOrigFaceValue(), newValue);
+	}
+
+	public void setTransactionFactor(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionFactor(), newValue);
+	}
+
+	public void setTransactionXferTaxA(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionXferTaxA(), newValue);
+	}
+
+	public void setTransactionXferTaxB(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionXferTaxB(), newValue);
+	}
+
+	public void setFxRate(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.fxRate(), newValue);
+	}
+
+	public void setTransactionCode(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionCode(), newValue);
+	}
+
+	public void setMarketCode(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.marketCode(), newValue);
+	}
+
+	public void setExdivStatus(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.exdivStatus(), newValue);
+	}
+
+	public void setTransactionCustomer(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionCustomer(), newValue);
+	}
+
+	public void setCrossAccountId(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.crossAccountId(), newValue);
+	}
+
+	public void setCounterPartyType(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.counterPartyType(), newValue);
+	}
+
+	public void setBrokerAccountNumber(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.brokerAccountNumber(), newValue);
+	}
+
+	public void setBrokerName(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.brokerName(), newValue);
+	}
+
+	public void setTransactionOffice(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionOffice(), newValue);
+	}
+
+	public void setClearingAgent(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.clearingAgent(), newValue);
+	}
+
+	public void setTrader(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.trader(), newValue);
+	}
+
+	public void setTransactionExtPrice(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionExtPrice(), newValue);
+	}
+
+	public void setTransactionExecTime(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionExecTime(), newValue);
+	}
+
+	public void setTransactionMemo(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionMemo(), newValue);
+	}
+
+	public void setTransactionSource(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionSource(), newValue);
+	}
+
+	public void setTransactionClose(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionClose(), newValue);
+	}
+
+	public void setTransactionVersion(int newValue)
+	{
+		zSetInteger(GhostMessagePendingTransactionFinder.transactionVersion(), newValue);
+	}
+
+	public void setTransactionFactory(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionFactory(), newValue);
+	}
+
+	public void setTransactionIgnore(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.transactionIgnore(), newValue);
+	}
+
+	public void setTrail1(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.trail1(), newValue);
+	}
+
+	public void setTrail2(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.trail2(), newValue);
+	}
+
+	public void setTrail3(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.trail3(), newValue);
+	}
+
+	public void setTrail4(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.trail4(), newValue);
+	}
+
+	public void setTrail5(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.trail5(), newValue);
+	}
+
+	public void setTrail6(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.trail6(), newValue);
+	}
+
+	public void setTrail7(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.trail7(), newValue);
+	}
+
+	public void setTrail8(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.trail8(), newValue);
+	}
+
+	public void setProcessedDate(Timestamp newValue)
+	{
+		zSetTimestamp(GhostMessagePendingTransactionFinder.processedDate(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.acmapCode(), newValue);
+	}
+
+	public void setProdIdNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.prodId());
+	}
+
+	public void setProductHubReferenceNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.productHubReference());
+	}
+
+	public void setTransactionQuantityNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionQuantity());
+	}
+
+	public void setTransactionPriceNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionPrice());
+	}
+
+	public void setTransactionCostNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionCost());
+	}
+
+	public void setTransactionCostBaseNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionCostBase());
+	}
+
+	public void setTransactionPurIntNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionPurInt());
+	}
+
+	public void setTransactionPurIntBaseNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionPurIntBase());
+	}
+
+	public void setTransactionSettleAmountNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionSettleAmount());
+	}
+
+	public void setTransactionSettleBaseAmountNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionSettleBaseAmount());
+	}
+
+	public void setTransactionDeductAmountNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionDeductAmount());
+	}
+
+	public void setTransactionDeductBaseAmountNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionDeductBaseAmount());
+	}
+
+	public void setTransactionOrigFaceValueNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionOrigFaceValue());
+	}
+
+	public void setTransactionXferTaxANull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionXferTaxA());
+	}
+
+	public void setTransactionXferTaxBNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionXferTaxB());
+	}
+
+	public void setFxRateNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.fxRate());
+	}
+
+	public void setTransactionExtPriceNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionExtPrice());
+	}
+
+	public void setTransactionVersionNull()
+	{
+		zSetAttributeNull(GhostMessagePendingTransactionFinder.transactionVersion());
+	}
+}
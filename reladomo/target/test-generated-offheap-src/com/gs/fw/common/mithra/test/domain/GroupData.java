@@ -0,0 +1,581 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class GroupData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private int id;
+	private int managerId;
+	private String name;
+	private int profileId;
+	private int sourceId;
+	private int type;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return false;
+	}
+
+	public boolean isTypeNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isManagerIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isProfileIdNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.id);
+		out.writeInt(this.managerId);
+		out.writeObject(this.name);
+		out.writeInt(this.profileId);
+		out.writeInt(this.sourceId);
+		out.writeInt(this.type);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getManagerId()
+	{
+		return this.managerId;
+	}
+
+	public void setManagerId(int value)
+	{
+		this.managerId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, GroupFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public int getProfileId()
+	{
+		return this.profileId;
+	}
+
+	public void setProfileId(int value)
+	{
+		this.profileId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public void setSourceId(int value)
+	{
+		this.sourceId = value;
+	}
+
+	public void setSourceIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getType()
+	{
+		return this.type;
+	}
+
+	public void setType(int value)
+	{
+		this.type = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setTypeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setManagerIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setProfileIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(GroupData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.id = this.id;
+		copy.managerId = this.managerId;
+		copy.name = this.name;
+		copy.profileId = this.profileId;
+		copy.sourceId = this.sourceId;
+		copy.type = this.type;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[7];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.id = in.readInt();
+		this.managerId = in.readInt();
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GroupFinder.isFullCache());
+		this.profileId = in.readInt();
+		this.sourceId = in.readInt();
+		this.type = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final GroupData otherData = (GroupData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		if (getSourceId() != otherData.getSourceId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+		out.writeInt(this.sourceId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+		this.sourceId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getManager()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[3];
+		}
+
+		return null;
+	}
+
+	public void setManager(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[3] = related;
+	}
+
+	public Object getProfile()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[4];
+		}
+
+		return null;
+	}
+
+	public void setProfile(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[4] = related;
+	}
+
+	public Object getLocations()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setLocations(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public Object getUsers()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[6];
+		}
+
+		return null;
+	}
+
+	public void setUsers(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[6] = related;
+	}
+
+	public Object getSourceUsers()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[5];
+		}
+
+		return null;
+	}
+
+	public void setSourceUsers(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[5] = related;
+	}
+
+	public Object getDefaultUsers()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setDefaultUsers(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public Object getGroup7activeUsers()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setGroup7activeUsers(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final GroupData groupData = (GroupData) newData;
+		this.setManagerId(groupData.getManagerId());
+		if (groupData.isManagerIdNull()) this.setManagerIdNull();
+		this.setName(groupData.getName());
+		this.setProfileId(groupData.getProfileId());
+		if (groupData.isProfileIdNull()) this.setProfileIdNull();
+		this.setSourceId(groupData.getSourceId());
+		this.setType(groupData.getType());
+		if (groupData.isTypeNull()) this.setTypeNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final GroupData other = (GroupData) newData;
+		if ( isManagerIdNull() != other.isManagerIdNull() || getManagerId() != other.getManagerId())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		if ( isProfileIdNull() != other.isProfileIdNull() || getProfileId() != other.getProfileId())
+		{
+			return true;
+		}
+
+		if ( getSourceId() != other.getSourceId())
+		{
+			return true;
+		}
+
+		if ( isTypeNull() != other.isTypeNull() || getType() != other.getType())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		GroupData copy = new GroupData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		GroupData copy = new GroupData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		result += "sourceId: "+(""+getSourceId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.GroupData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return GroupFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return GroupFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.GroupData";
+	}
+}
@@ -0,0 +1,321 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class GsDeskAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String divisionCode;
+	private int id;
+	private String name;
+	public boolean isDivisionCodeNull()
+	{
+		return this.getDivisionCode() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.divisionCode);
+		out.writeInt(this.id);
+		out.writeObject(this.name);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		GsDeskData data = new GsDeskData();
+		data.setDivisionCode(divisionCode);
+		data.setId(id);
+		data.setName(name);
+		return data;
+	}
+
+	public GsDesk getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		GsDeskAbstract copy = (GsDeskAbstract) GsDeskFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (GsDesk)copy;
+	}
+
+	protected void zSetFromGsDeskData(GsDeskData data)
+	{
+		this.setFromGsDeskData(data);
+	}
+
+	public void setFromGsDeskData(GsDeskData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		divisionCode = data.getDivisionCode();
+		id = data.getId();
+		name = data.getName();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return GsDeskFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromGsDeskData((GsDeskData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getDivisionCode()
+	{
+		return this.divisionCode;
+	}
+
+	public void setDivisionCode(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.divisionCode = StringPool.getInstance().getOrAddToCache(value, GsDeskFinder.isFullCache());
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, GsDeskFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestCheckGsDesk.gsDeskId = this.id</pre>
+	* @see TestCheckGsDesk#getGsDesk() reverse relationship TestCheckGsDesk.getGsDesk()
+	* @return check gs desk
+	*/
+	public TestCheckGsDeskList getCheckGsDesk()
+	{
+		TestCheckGsDeskList _result = null;
+		if (_relationships != null)
+		{
+			_result = (TestCheckGsDeskList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new TestCheckGsDeskList(zGetCheckGsDeskOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setCheckGsDesk(TestCheckGsDeskList checkGsDesk)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = checkGsDesk;
+	}
+
+	public Operation zGetCheckGsDeskOperation()
+	{
+		GsDeskAbstract _data = this;
+		return TestCheckGsDeskFinder.gsDeskId().eq(_data.getId());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final GsDeskData gsDeskData = (GsDeskData) newData;
+		if (!isDivisionCodeNull() ? !getDivisionCode().equals(gsDeskData.getDivisionCode()) : !gsDeskData.isDivisionCodeNull())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(gsDeskData.getName()) : !gsDeskData.isNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.divisionCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GsDeskFinder.isFullCache());
+			this.id = in.readInt();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GsDeskFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = GsDeskFinder.id().eq(this.getId());
+			return GsDeskFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
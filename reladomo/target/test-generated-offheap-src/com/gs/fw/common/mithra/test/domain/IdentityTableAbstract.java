@@ -0,0 +1,286 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class IdentityTableAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(IdentityTable.class.getName());
+	public IdentityTableAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public IdentityTable getDetachedCopy() throws MithraBusinessException
+	{
+		return (IdentityTable) super.getDetachedCopy();
+	}
+
+	public IdentityTable getNonPersistentCopy() throws MithraBusinessException
+	{
+		IdentityTable result = (IdentityTable) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public IdentityTable copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (IdentityTable) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public IdentityTable zFindOriginal()
+	{
+		IdentityTableData data = (IdentityTableData) this.currentData;
+		Operation op;
+		op = IdentityTableFinder.objectId().eq(data.getObjectId());
+		op = op.and(IdentityTableFinder.month().eq(data.getMonth()));
+		op = op.and(IdentityTableFinder.orderId().eq(data.getOrderId()));
+		return IdentityTableFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new IdentityTableData();
+	}
+
+	protected void zSetFromIdentityTableData( IdentityTableData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromIdentityTableData( IdentityTableData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((IdentityTableData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		IdentityTableData data = (IdentityTableData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 50: " + newValue);
+		zSetString(IdentityTableFinder.description(), newValue, false, false );
+	}
+
+	public boolean isMonthNull()
+	{
+		return ((IdentityTableData) this.zSynchronizedGetData()).isMonthNull();
+	}
+
+	public Timestamp getMonth()
+	{
+		IdentityTableData data = (IdentityTableData) this.zSynchronizedGetData();
+		return data.getMonth();
+	}
+
+	public void setMonth(Timestamp newValue)
+	{
+		zSetTimestamp(IdentityTableFinder.month(), newValue, true, false );
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return ((IdentityTableData) this.zSynchronizedGetData()).isObjectIdNull();
+	}
+
+	public long getObjectId()
+	{
+		IdentityTableData data = (IdentityTableData) this.zSynchronizedGetData();
+		return data.getObjectId();
+	}
+
+	public void setObjectId(long newValue)
+	{
+		zSetLong(IdentityTableFinder.objectId(), newValue, true, false ,false);
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((IdentityTableData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		IdentityTableData data = (IdentityTableData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(IdentityTableFinder.orderId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		IdentityTableData _newData = (IdentityTableData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		IdentityTableData _newData = (IdentityTableData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		IdentityTableData _newData = (IdentityTableData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public IdentityTable zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		IdentityTable original = (IdentityTable) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return IdentityTableFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return IdentityTableFinder.getMithraObjectPortal();
+	}
+
+	public IdentityTable getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, IdentityTableFinder.description(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, IdentityTableFinder.month(), false);
+		changed |= zUpdateLong(behavior, data, newData, IdentityTableFinder.objectId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, IdentityTableFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		IdentityTableAbstract result = (IdentityTableAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,337 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class IdentityTableData
+implements MithraDataObject
+{
+	private String description;
+	private Timestamp month;
+	private long objectId;
+	private int orderId;
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isMonthNull()
+	{
+		return this.getMonth() == null;
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.description);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.month);
+		out.writeLong(this.objectId);
+		out.writeInt(this.orderId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, IdentityTableFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public Timestamp getMonth()
+	{
+		return this.month;
+	}
+
+	public long zGetMonthAsLong()
+	{
+		if (month == null) return TimestampPool.OFF_HEAP_NULL;
+		return month.getTime();
+	}
+
+	public void setMonth(Timestamp value)
+	{
+		this.month = TimestampPool.getInstance().getOrAddToCache(value, IdentityTableFinder.isFullCache(), IdentityTableFinder.isOffHeap());
+	}
+
+	public void setMonthNull()
+	{
+		this.setMonth(null);
+	}
+
+	public long getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(long value)
+	{
+		this.objectId = value;
+	}
+
+	public void setObjectIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.orderId = value;
+	}
+
+	public void setOrderIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(IdentityTableData copy, boolean withRelationships)
+	{
+		copy.description = this.description;
+		copy.month = this.month;
+		copy.objectId = this.objectId;
+		copy.orderId = this.orderId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), IdentityTableFinder.isFullCache());
+		this.month = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), IdentityTableFinder.isFullCache(), IdentityTableFinder.isOffHeap());
+		this.objectId = in.readLong();
+		this.orderId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final IdentityTableData otherData = (IdentityTableData) other;
+		if (!isMonthNull() ? !getMonth().equals(otherData.getMonth()) : !otherData.isMonthNull())
+		{
+			return false;
+		}
+
+		if (getObjectId() != otherData.getObjectId())
+		{
+			return false;
+		}
+
+		if (getOrderId() != otherData.getOrderId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.month);
+		out.writeLong(this.objectId);
+		out.writeInt(this.orderId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.month = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), IdentityTableFinder.isFullCache(), IdentityTableFinder.isOffHeap());
+		this.objectId = in.readLong();
+		this.orderId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final IdentityTableData identityTableData = (IdentityTableData) newData;
+		this.setDescription(identityTableData.getDescription());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final IdentityTableData other = (IdentityTableData) newData;
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		IdentityTableData copy = new IdentityTableData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		IdentityTableData copy = new IdentityTableData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "month: "+(isMonthNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getMonth().getTime()))+ " / ";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		result += "orderId: "+(""+getOrderId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.IdentityTableData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return IdentityTableFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return IdentityTableFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return new Long(this.getObjectId());
+	}
+
+	public boolean zHasIdentity()
+	{
+		return true;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+		this.setObjectId(identityValue.longValue());
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.IdentityTableData";
+	}
+}
@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class IdentityTableListAbstract extends DelegatingList<IdentityTable> implements MithraTransactionalList<IdentityTable>
+{
+	public IdentityTableListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public IdentityTableListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public IdentityTableListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public IdentityTableListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public IdentityTable[] elements()
+	{
+		IdentityTable[] result = new IdentityTable[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public IdentityTableList intersection(IdentityTableList another)
+	{
+		return (IdentityTableList)super.intersection(another);
+	}
+
+	public IdentityTable getIdentityTableAt(int index)
+	{
+		return (IdentityTable)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return IdentityTableFinder.getMithraObjectPortal();
+	}
+
+	public IdentityTableList getNonPersistentCopy()
+	{
+		IdentityTableList result = new IdentityTableList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public IdentityTableList asAdhoc()
+	{
+		return (IdentityTableList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<IdentityTable> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public IdentityTableList merge(MithraTransactionalList<IdentityTable> incoming, TopLevelMergeOptions<IdentityTable> mergeOptions)
+	{
+		return (IdentityTableList) super.merge(incoming, mergeOptions);
+	}
+
+	public IdentityTableList getDetachedCopy()
+	{
+		IdentityTableList result = new IdentityTableList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setObjectId(long newValue)
+	{
+		zSetLong(IdentityTableFinder.objectId(), newValue);
+	}
+
+	public void setMonth(Timestamp newValue)
+	{
+		zSetTimestamp(IdentityTableFinder.month(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(IdentityTableFinder.orderId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(IdentityTableFinder.description(), newValue);
+	}
+}
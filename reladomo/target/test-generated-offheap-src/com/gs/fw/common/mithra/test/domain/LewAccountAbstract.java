@@ -0,0 +1,1360 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.glew.LewContract;
+import com.gs.fw.common.mithra.test.glew.LewContractAbstract;
+import com.gs.fw.common.mithra.test.glew.LewContractData;
+import com.gs.fw.common.mithra.test.glew.LewContractFinder;
+import com.gs.fw.common.mithra.test.glew.LewContractList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class LewAccountAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		LewAccountFinder.businessDate()
+	,
+		LewAccountFinder.processingDate()
+	, LewAccountFinder.zGetDoubleAttributes(),LewAccountFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(LewAccount.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private Object __paraPosition;
+	public LewAccountAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, LewAccountFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, LewAccountFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public LewAccountAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public LewAccountData zSynchronizedGetData()
+	{
+		return (LewAccountData) super.zSynchronizedGetData();
+	}
+
+	protected void zClearAllDirectRefs()
+	{
+		__paraPosition = null;
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !LewAccountFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !LewAccountFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public LewAccount zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		LewAccount original = (LewAccount) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public LewAccount copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (LewAccount) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public LewAccount copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (LewAccount) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			LewAccountFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public LewAccount getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		LewAccountAbstract result = (LewAccountAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (LewAccount ) result;
+	}
+
+	public LewAccount zFindOriginal()
+	{
+		LewAccountData data = (LewAccountData) this.currentData;
+		Operation op;
+		op = LewAccountFinder.accountId().eq(data.getAccountId());
+		op = op.and(LewAccountFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(LewAccountFinder.processingDate().eq(this.getProcessingDate()));
+		return LewAccountFinder.findOne(op);
+	}
+
+	public LewAccount getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		LewAccountAbstract result = (LewAccountAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (LewAccount ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public LewAccount copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (LewAccount) behavior.updateOriginalOrInsert(this);
+	}
+
+	public LewAccount copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (LewAccount) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			LewAccountData data = (LewAccountData) this.currentData;
+			Operation op = LewAccountFinder.businessDate().eq(this.businessDate);
+			op = op.and(LewAccountFinder.processingDate().eq(this.processingDate));
+			op = op.and(LewAccountFinder.accountId().eq(data.getAccountId()));
+			return LewAccountFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		LewAccountData data = (LewAccountData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && LewAccountFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		LewAccountData data = (LewAccountData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return this.zSynchronizedGetData().isAccountIdNull();
+	}
+
+	public boolean isAccountNumberNull()
+	{
+		return this.zSynchronizedGetData().isAccountNumberNull();
+	}
+
+	public boolean isAccountSubNumberNull()
+	{
+		return this.zSynchronizedGetData().isAccountSubNumberNull();
+	}
+
+	public boolean isAccountTypeNull()
+	{
+		return this.zSynchronizedGetData().isAccountTypeNull();
+	}
+
+	public boolean isAcctDescNull()
+	{
+		return this.zSynchronizedGetData().isAcctDescNull();
+	}
+
+	public boolean isAcctExtLookupNull()
+	{
+		return this.zSynchronizedGetData().isAcctExtLookupNull();
+	}
+
+	public boolean isAcctMnemNull()
+	{
+		return this.zSynchronizedGetData().isAcctMnemNull();
+	}
+
+	public boolean isAcctMstrSrcNull()
+	{
+		return this.zSynchronizedGetData().isAcctMstrSrcNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isChangeCodeNull()
+	{
+		return this.zSynchronizedGetData().isChangeCodeNull();
+	}
+
+	public boolean isChangeNumberNull()
+	{
+		return this.zSynchronizedGetData().isChangeNumberNull();
+	}
+
+	public boolean isCreateCodeNull()
+	{
+		return this.zSynchronizedGetData().isCreateCodeNull();
+	}
+
+	public boolean isLegalEntityNull()
+	{
+		return this.zSynchronizedGetData().isLegalEntityNull();
+	}
+
+	public boolean isProcCompanyIdNull()
+	{
+		return this.zSynchronizedGetData().isProcCompanyIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isTrialCodeNull()
+	{
+		return this.zSynchronizedGetData().isTrialCodeNull();
+	}
+
+	public int getAccountId()
+	{
+		return this.zSynchronizedGetData().getAccountId();
+	}
+
+	public void setAccountId(int newValue)
+	{
+		zSetInteger(LewAccountFinder.accountId(), newValue, true ,false);
+	}
+
+	public void setAccountIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(LewAccountFinder.accountId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public String getAccountNumber()
+	{
+		return this.zSynchronizedGetData().getAccountNumber();
+	}
+
+	public void setAccountNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'accountNumber' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.accountNumber(), newValue, false );
+	}
+
+	public void setAccountNumberUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'accountNumber' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.accountNumber(), newValue, false , exclusiveUntil);
+	}
+
+	public String getAccountSubNumber()
+	{
+		return this.zSynchronizedGetData().getAccountSubNumber();
+	}
+
+	public void setAccountSubNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'accountSubNumber' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.accountSubNumber(), newValue, false );
+	}
+
+	public void setAccountSubNumberUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'accountSubNumber' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.accountSubNumber(), newValue, false , exclusiveUntil);
+	}
+
+	public String getAccountType()
+	{
+		return this.zSynchronizedGetData().getAccountType();
+	}
+
+	public void setAccountType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'accountType' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.accountType(), newValue, false );
+	}
+
+	public void setAccountTypeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'accountType' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.accountType(), newValue, false , exclusiveUntil);
+	}
+
+	public String getAcctDesc()
+	{
+		return this.zSynchronizedGetData().getAcctDesc();
+	}
+
+	public void setAcctDesc(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 80)
+		{
+			throw new MithraBusinessException("Attribute 'acctDesc' cannot exceed maximum length of 80: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.acctDesc(), newValue, false );
+	}
+
+	public void setAcctDescUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 80)
+		{
+			throw new MithraBusinessException("Attribute 'acctDesc' cannot exceed maximum length of 80: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.acctDesc(), newValue, false , exclusiveUntil);
+	}
+
+	public String getAcctExtLookup()
+	{
+		return this.zSynchronizedGetData().getAcctExtLookup();
+	}
+
+	public void setAcctExtLookup(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'acctExtLookup' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.acctExtLookup(), newValue, false );
+	}
+
+	public void setAcctExtLookupUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'acctExtLookup' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.acctExtLookup(), newValue, false , exclusiveUntil);
+	}
+
+	public String getAcctMnem()
+	{
+		return this.zSynchronizedGetData().getAcctMnem();
+	}
+
+	public void setAcctMnem(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 8)
+		{
+			throw new MithraBusinessException("Attribute 'acctMnem' cannot exceed maximum length of 8: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.acctMnem(), newValue, false );
+	}
+
+	public void setAcctMnemUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 8)
+		{
+			throw new MithraBusinessException("Attribute 'acctMnem' cannot exceed maximum length of 8: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.acctMnem(), newValue, false , exclusiveUntil);
+	}
+
+	public int getAcctMstrSrc()
+	{
+		LewAccountData data = this.zSynchronizedGetData();
+		if (data.isAcctMstrSrcNull()) MithraNullPrimitiveException.throwNew("acctMstrSrc", data);
+		return data.getAcctMstrSrc();
+	}
+
+	public void setAcctMstrSrc(int newValue)
+	{
+		zSetInteger(LewAccountFinder.acctMstrSrc(), newValue, false ,true);
+	}
+
+	public void setAcctMstrSrcUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(LewAccountFinder.acctMstrSrc(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(LewAccountFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(LewAccountFinder.businessDateTo(), newValue, false );
+	}
+
+	public int getChangeCode()
+	{
+		LewAccountData data = this.zSynchronizedGetData();
+		if (data.isChangeCodeNull()) MithraNullPrimitiveException.throwNew("changeCode", data);
+		return data.getChangeCode();
+	}
+
+	public void setChangeCode(int newValue)
+	{
+		zSetInteger(LewAccountFinder.changeCode(), newValue, false ,true);
+	}
+
+	public void setChangeCodeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(LewAccountFinder.changeCode(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getChangeNumber()
+	{
+		return this.zSynchronizedGetData().getChangeNumber();
+	}
+
+	public void setChangeNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 8)
+		{
+			throw new MithraBusinessException("Attribute 'changeNumber' cannot exceed maximum length of 8: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.changeNumber(), newValue, false );
+	}
+
+	public void setChangeNumberUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 8)
+		{
+			throw new MithraBusinessException("Attribute 'changeNumber' cannot exceed maximum length of 8: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.changeNumber(), newValue, false , exclusiveUntil);
+	}
+
+	public int getCreateCode()
+	{
+		LewAccountData data = this.zSynchronizedGetData();
+		if (data.isCreateCodeNull()) MithraNullPrimitiveException.throwNew("createCode", data);
+		return data.getCreateCode();
+	}
+
+	public void setCreateCode(int newValue)
+	{
+		zSetInteger(LewAccountFinder.createCode(), newValue, false ,true);
+	}
+
+	public void setCreateCodeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(LewAccountFinder.createCode(), newValue, false , exclusiveUntil,true);
+	}
+
+	public int getLegalEntity()
+	{
+		LewAccountData data = this.zSynchronizedGetData();
+		if (data.isLegalEntityNull()) MithraNullPrimitiveException.throwNew("legalEntity", data);
+		return data.getLegalEntity();
+	}
+
+	public void setLegalEntity(int newValue)
+	{
+		zSetInteger(LewAccountFinder.legalEntity(), newValue, false ,true);
+	}
+
+	public void setLegalEntityUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(LewAccountFinder.legalEntity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public int getProcCompanyId()
+	{
+		LewAccountData data = this.zSynchronizedGetData();
+		if (data.isProcCompanyIdNull()) MithraNullPrimitiveException.throwNew("procCompanyId", data);
+		return data.getProcCompanyId();
+	}
+
+	public void setProcCompanyId(int newValue)
+	{
+		zSetInteger(LewAccountFinder.procCompanyId(), newValue, false ,true);
+	}
+
+	public void setProcCompanyIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(LewAccountFinder.procCompanyId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(LewAccountFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(LewAccountFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getTrialCode()
+	{
+		return this.zSynchronizedGetData().getTrialCode();
+	}
+
+	public void setTrialCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			throw new MithraBusinessException("Attribute 'trialCode' cannot exceed maximum length of 4: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.trialCode(), newValue, false );
+	}
+
+	public void setTrialCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			throw new MithraBusinessException("Attribute 'trialCode' cannot exceed maximum length of 4: " + newValue);
+		}
+
+		zSetString(LewAccountFinder.trialCode(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, LewAccountFinder.legalEntity(), false, mustCheckCurrent);
+		zNullify(behavior, data, LewAccountFinder.procCompanyId(), false, mustCheckCurrent);
+		zNullify(behavior, data, LewAccountFinder.createCode(), false, mustCheckCurrent);
+		zNullify(behavior, data, LewAccountFinder.changeCode(), false, mustCheckCurrent);
+		zNullify(behavior, data, LewAccountFinder.acctMstrSrc(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		LewAccountData data2 = (LewAccountData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && LewAccountFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setLegalEntityNull()
+	{
+		zNullify(LewAccountFinder.legalEntity(), false);
+	}
+
+	public void setLegalEntityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(LewAccountFinder.legalEntity(), false, exclusiveUntil);
+	}
+
+	public void setProcCompanyIdNull()
+	{
+		zNullify(LewAccountFinder.procCompanyId(), false);
+	}
+
+	public void setProcCompanyIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(LewAccountFinder.procCompanyId(), false, exclusiveUntil);
+	}
+
+	public void setCreateCodeNull()
+	{
+		zNullify(LewAccountFinder.createCode(), false);
+	}
+
+	public void setCreateCodeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(LewAccountFinder.createCode(), false, exclusiveUntil);
+	}
+
+	public void setChangeCodeNull()
+	{
+		zNullify(LewAccountFinder.changeCode(), false);
+	}
+
+	public void setChangeCodeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(LewAccountFinder.changeCode(), false, exclusiveUntil);
+	}
+
+	public void setAcctMstrSrcNull()
+	{
+		zNullify(LewAccountFinder.acctMstrSrc(), false);
+	}
+
+	public void setAcctMstrSrcNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(LewAccountFinder.acctMstrSrc(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		LewAccountData _newData = (LewAccountData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		LewAccountData _newData = (LewAccountData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		LewAccountData _newData = (LewAccountData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	LewContract.acctId = this.accountId and
+	LewContract.region = "NYK"</pre>
+	* @return contracts
+	*/
+	public LewContractList getContracts()
+	{
+		LewContractList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		LewAccountData _data = (LewAccountData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(LewAccountFinder.contracts().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(LewAccountFinder.contracts().zGetRelationshipMultiExtractor(), this);
+					_result = new LewContractList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (LewContractList) _data.getContracts();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(LewAccountFinder.contracts().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new LewContractList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setContracts(LewContractList contracts)
+	{
+		LewContractList _contracts = (LewContractList) contracts;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		LewAccountData _data = (LewAccountData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setContracts(_contracts);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	LewContract.acctId = this.accountId</pre>
+	* @return contracts to load
+	*/
+	public LewContractList getContractsToLoad()
+	{
+		LewContractList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		LewAccountData _data = (LewAccountData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(LewAccountFinder.contractsToLoad().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(LewAccountFinder.contractsToLoad().zGetRelationshipMultiExtractor(), this);
+					_result = new LewContractList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (LewContractList) _data.getContractsToLoad();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(LewAccountFinder.contractsToLoad().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new LewContractList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setContractsToLoad(LewContractList contractsToLoad)
+	{
+		LewContractList _contractsToLoad = (LewContractList) contractsToLoad;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		LewAccountData _data = (LewAccountData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setContractsToLoad(_contractsToLoad);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedAccount.id = this.accountId and DatedAccount.deskId = {DatedAccount.complexFunction(param, 0)}</pre>
+	* @return The test one to one source param
+	*/
+	public DatedAccount getTestOneToOneSourceParam(int param)
+	{
+		DatedAccount _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		LewAccountData _data = (LewAccountData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				_result = (DatedAccount) DatedAccountFinder.findByPrimaryKey(_data.getAccountId(),
+					DatedAccount.complexFunction(param, 0),
+					this.getBusinessDate(),
+					this.getProcessingDate());
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.accountNumber = ParaPosition.accountNumber and this.accountSubNumber = ParaPosition.accountSubtype and this.businessDate = ParaPosition.businessDate )</pre>
+	* @see ParaPosition#getAccount() reverse relationship ParaPosition.getAccount()
+	* @return para position
+	*/
+	public final ParaPositionList getParaPosition()
+	{
+		ParaPositionList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		LewAccountData _data = (LewAccountData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if ((!_data.isAccountNumberNull()) && (!_data.isAccountSubNumberNull()))
+			{
+				_portal = ParaPositionFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = this.__paraPosition;
+						_result = (ParaPositionList) _portal.unwrapToManyRelatedObject(o);
+						if (_result != null)
+						{
+							return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.zClearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				{
+					_op = new RelationshipMultiEqualityOperation(LewAccountFinder.paraPosition().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new ParaPositionList( new None (
+					ParaPositionFinder.productIdentifier()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if ((!_data.isAccountNumberNull()) && (!_data.isAccountSubNumberNull()))
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(LewAccountFinder.paraPosition().zGetRelationshipMultiExtractor(), this);
+					_result = new ParaPositionList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new ParaPositionList( new None (
+						ParaPositionFinder.productIdentifier()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ParaPositionList) _data.getParaPosition();
+			if (_result == null)
+			{
+				if ((!_data.isAccountNumberNull()) && (!_data.isAccountSubNumberNull()))
+				{
+					_op = new RelationshipMultiEqualityOperation(LewAccountFinder.paraPosition().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new ParaPositionList( new None (
+						ParaPositionFinder.productIdentifier()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ParaPositionList(_op);
+			_result.zSetForRelationship();
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			this.__paraPosition = (_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setParaPosition(ParaPositionList paraPosition)
+	{
+		ParaPositionList _paraPosition = (ParaPositionList) paraPosition;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		LewAccountData _data = (LewAccountData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParaPosition(_paraPosition);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return LewAccountFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new LewAccountData.LewAccountDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		LewAccountData data = (LewAccountData) LewAccountFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("LewAccount has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromLewAccountData( LewAccountData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromLewAccountData( LewAccountData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) LewAccountFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return LewAccountFinder.getMithraObjectPortal();
+	}
+
+	public LewAccount getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(LewAccountAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		LewAccountAbstract from = (LewAccountAbstract) f;
+		LewAccountData newData = from.zSynchronizedGetData();
+		this.setAccountNumber(newData.getAccountNumber());
+		this.setAccountSubNumber(newData.getAccountSubNumber());
+		this.setAccountType(newData.getAccountType());
+		this.setAcctDesc(newData.getAcctDesc());
+		this.setAcctExtLookup(newData.getAcctExtLookup());
+		this.setAcctMnem(newData.getAcctMnem());
+		if (from.isAcctMstrSrcNull())
+		{
+			this.setAcctMstrSrcNull();
+		}
+		else
+		{
+			this.setAcctMstrSrc(newData.getAcctMstrSrc());
+		}
+
+		if (from.isChangeCodeNull())
+		{
+			this.setChangeCodeNull();
+		}
+		else
+		{
+			this.setChangeCode(newData.getChangeCode());
+		}
+
+		this.setChangeNumber(newData.getChangeNumber());
+		if (from.isCreateCodeNull())
+		{
+			this.setCreateCodeNull();
+		}
+		else
+		{
+			this.setCreateCode(newData.getCreateCode());
+		}
+
+		if (from.isLegalEntityNull())
+		{
+			this.setLegalEntityNull();
+		}
+		else
+		{
+			this.setLegalEntity(newData.getLegalEntity());
+		}
+
+		if (from.isProcCompanyIdNull())
+		{
+			this.setProcCompanyIdNull();
+		}
+		else
+		{
+			this.setProcCompanyId(newData.getProcCompanyId());
+		}
+
+		this.setTrialCode(newData.getTrialCode());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		LewAccountData _newData = (LewAccountData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		LewAccountData _newData = (LewAccountData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(LewAccountAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		LewAccountAbstract from = (LewAccountAbstract)f;
+		LewAccountData newData = from.zSynchronizedGetData();
+		this.setAccountNumberUntil(newData.getAccountNumber(), exclusiveUntil);
+		this.setAccountSubNumberUntil(newData.getAccountSubNumber(), exclusiveUntil);
+		this.setAccountTypeUntil(newData.getAccountType(), exclusiveUntil);
+		this.setAcctDescUntil(newData.getAcctDesc(), exclusiveUntil);
+		this.setAcctExtLookupUntil(newData.getAcctExtLookup(), exclusiveUntil);
+		this.setAcctMnemUntil(newData.getAcctMnem(), exclusiveUntil);
+		if (from.isAcctMstrSrcNull())
+		{
+			this.setAcctMstrSrcNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setAcctMstrSrcUntil(newData.getAcctMstrSrc(), exclusiveUntil);
+		}
+
+		if (from.isChangeCodeNull())
+		{
+			this.setChangeCodeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setChangeCodeUntil(newData.getChangeCode(), exclusiveUntil);
+		}
+
+		this.setChangeNumberUntil(newData.getChangeNumber(), exclusiveUntil);
+		if (from.isCreateCodeNull())
+		{
+			this.setCreateCodeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setCreateCodeUntil(newData.getCreateCode(), exclusiveUntil);
+		}
+
+		if (from.isLegalEntityNull())
+		{
+			this.setLegalEntityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setLegalEntityUntil(newData.getLegalEntity(), exclusiveUntil);
+		}
+
+		if (from.isProcCompanyIdNull())
+		{
+			this.setProcCompanyIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setProcCompanyIdUntil(newData.getProcCompanyId(), exclusiveUntil);
+		}
+
+		this.setTrialCodeUntil(newData.getTrialCode(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		LewAccountData newData = (LewAccountData) d;
+		LewAccountData data = (LewAccountData) nd;
+		if (LewAccountFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.accountNumber(), false);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.accountSubNumber(), false);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.accountType(), false);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.acctDesc(), false);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.acctExtLookup(), false);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.acctMnem(), false);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.acctMstrSrc(), false);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.changeCode(), false);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.changeNumber(), false);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.createCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.legalEntity(), false);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.procCompanyId(), false);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.trialCode(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.accountId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.accountNumber(), false, until);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.accountSubNumber(), false, until);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.accountType(), false, until);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.acctDesc(), false, until);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.acctExtLookup(), false, until);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.acctMnem(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.acctMstrSrc(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.changeCode(), false, until);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.changeNumber(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.createCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.legalEntity(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, LewAccountFinder.procCompanyId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, LewAccountFinder.trialCode(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		LewAccountData data = ((LewAccountData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		LewAccountData data = ((LewAccountData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		LewAccountData data = ((LewAccountData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), LewAccountFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), LewAccountFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		LewAccountData localData = (LewAccountData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1990 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.glew.LewContract;
+import com.gs.fw.common.mithra.test.glew.LewContractAbstract;
+import com.gs.fw.common.mithra.test.glew.LewContractData;
+import com.gs.fw.common.mithra.test.glew.LewContractFinder;
+import com.gs.fw.common.mithra.test.glew.LewContractList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface LewAccountData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 96;
+	boolean isAccountIdNull();
+	int getAccountId();
+	void setAccountId(int value);
+	void setAccountIdNull();
+	boolean isAccountNumberNull();
+	String getAccountNumber();
+	void setAccountNumber(String value);
+	void setAccountNumberNull();
+	int zGetAccountNumberAsInt();
+	boolean isAccountSubNumberNull();
+	String getAccountSubNumber();
+	void setAccountSubNumber(String value);
+	void setAccountSubNumberNull();
+	int zGetAccountSubNumberAsInt();
+	boolean isAccountTypeNull();
+	String getAccountType();
+	void setAccountType(String value);
+	void setAccountTypeNull();
+	int zGetAccountTypeAsInt();
+	boolean isAcctDescNull();
+	String getAcctDesc();
+	void setAcctDesc(String value);
+	void setAcctDescNull();
+	int zGetAcctDescAsInt();
+	boolean isAcctExtLookupNull();
+	String getAcctExtLookup();
+	void setAcctExtLookup(String value);
+	void setAcctExtLookupNull();
+	int zGetAcctExtLookupAsInt();
+	boolean isAcctMnemNull();
+	String getAcctMnem();
+	void setAcctMnem(String value);
+	void setAcctMnemNull();
+	int zGetAcctMnemAsInt();
+	boolean isAcctMstrSrcNull();
+	int getAcctMstrSrc();
+	void setAcctMstrSrc(int value);
+	void setAcctMstrSrcNull();
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isChangeCodeNull();
+	int getChangeCode();
+	void setChangeCode(int value);
+	void setChangeCodeNull();
+	boolean isChangeNumberNull();
+	String getChangeNumber();
+	void setChangeNumber(String value);
+	void setChangeNumberNull();
+	int zGetChangeNumberAsInt();
+	boolean isCreateCodeNull();
+	int getCreateCode();
+	void setCreateCode(int value);
+	void setCreateCodeNull();
+	boolean isLegalEntityNull();
+	int getLegalEntity();
+	void setLegalEntity(int value);
+	void setLegalEntityNull();
+	boolean isProcCompanyIdNull();
+	int getProcCompanyId();
+	void setProcCompanyId(int value);
+	void setProcCompanyIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isTrialCodeNull();
+	String getTrialCode();
+	void setTrialCode(String value);
+	void setTrialCodeNull();
+	int zGetTrialCodeAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getContracts();
+	void setContracts(Object related);
+	Object getContractsToLoad();
+	void setContractsToLoad(Object related);
+	Object getParaPosition();
+	void setParaPosition(Object related);
+	public class LewAccountDataOnHeap implements LewAccountData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private int accountId;
+		private String accountNumber;
+		private String accountSubNumber;
+		private String accountType;
+		private String acctDesc;
+		private String acctExtLookup;
+		private String acctMnem;
+		private int acctMstrSrc;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private int changeCode;
+		private String changeNumber;
+		private int createCode;
+		private int legalEntity;
+		private int procCompanyId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String trialCode;
+		public boolean isAccountIdNull()
+		{
+			return false;
+		}
+
+		public boolean isAccountNumberNull()
+		{
+			return this.getAccountNumber() == null;
+		}
+
+		public boolean isAccountSubNumberNull()
+		{
+			return this.getAccountSubNumber() == null;
+		}
+
+		public boolean isAccountTypeNull()
+		{
+			return this.getAccountType() == null;
+		}
+
+		public boolean isAcctDescNull()
+		{
+			return this.getAcctDesc() == null;
+		}
+
+		public boolean isAcctExtLookupNull()
+		{
+			return this.getAcctExtLookup() == null;
+		}
+
+		public boolean isAcctMnemNull()
+		{
+			return this.getAcctMnem() == null;
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isChangeNumberNull()
+		{
+			return this.getChangeNumber() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isTrialCodeNull()
+		{
+			return this.getTrialCode() == null;
+		}
+
+		public boolean isLegalEntityNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isProcCompanyIdNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public boolean isCreateCodeNull()
+		{
+			return (isNullBits0 & 1 << 2) != 0 ;
+		}
+
+		public boolean isChangeCodeNull()
+		{
+			return (isNullBits0 & 1 << 3) != 0 ;
+		}
+
+		public boolean isAcctMstrSrcNull()
+		{
+			return (isNullBits0 & 1 << 4) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.accountId);
+			out.writeObject(this.accountNumber);
+			out.writeObject(this.accountSubNumber);
+			out.writeObject(this.accountType);
+			out.writeObject(this.acctDesc);
+			out.writeObject(this.acctExtLookup);
+			out.writeObject(this.acctMnem);
+			out.writeInt(this.acctMstrSrc);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, LewAccountFinder.businessDate().getInfinityDate());
+			out.writeInt(this.changeCode);
+			out.writeObject(this.changeNumber);
+			out.writeInt(this.createCode);
+			out.writeInt(this.legalEntity);
+			out.writeInt(this.procCompanyId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, LewAccountFinder.processingDate().getInfinityDate());
+			out.writeObject(this.trialCode);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public int getAccountId()
+		{
+			return this.accountId;
+		}
+
+		public void setAccountId(int value)
+		{
+			this.accountId = value;
+		}
+
+		public void setAccountIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getAccountNumber()
+		{
+			return this.accountNumber;
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountNumber);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache());
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public String getAccountSubNumber()
+		{
+			return this.accountSubNumber;
+		}
+
+		public int zGetAccountSubNumberAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountSubNumber);
+		}
+
+		public void setAccountSubNumber(String value)
+		{
+			this.accountSubNumber = StringPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache());
+		}
+
+		public void setAccountSubNumberNull()
+		{
+			this.setAccountSubNumber(null);
+		}
+
+		public String getAccountType()
+		{
+			return this.accountType;
+		}
+
+		public int zGetAccountTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountType);
+		}
+
+		public void setAccountType(String value)
+		{
+			this.accountType = StringPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache());
+		}
+
+		public void setAccountTypeNull()
+		{
+			this.setAccountType(null);
+		}
+
+		public String getAcctDesc()
+		{
+			return this.acctDesc;
+		}
+
+		public int zGetAcctDescAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(acctDesc);
+		}
+
+		public void setAcctDesc(String value)
+		{
+			this.acctDesc = StringPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache());
+		}
+
+		public void setAcctDescNull()
+		{
+			this.setAcctDesc(null);
+		}
+
+		public String getAcctExtLookup()
+		{
+			return this.acctExtLookup;
+		}
+
+		public int zGetAcctExtLookupAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(acctExtLookup);
+		}
+
+		public void setAcctExtLookup(String value)
+		{
+			this.acctExtLookup = StringPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache());
+		}
+
+		public void setAcctExtLookupNull()
+		{
+			this.setAcctExtLookup(null);
+		}
+
+		public String getAcctMnem()
+		{
+			return this.acctMnem;
+		}
+
+		public int zGetAcctMnemAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(acctMnem);
+		}
+
+		public void setAcctMnem(String value)
+		{
+			this.acctMnem = StringPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache());
+		}
+
+		public void setAcctMnemNull()
+		{
+			this.setAcctMnem(null);
+		}
+
+		public int getAcctMstrSrc()
+		{
+			return this.acctMstrSrc;
+		}
+
+		public void setAcctMstrSrc(int value)
+		{
+			this.acctMstrSrc = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getChangeCode()
+		{
+			return this.changeCode;
+		}
+
+		public void setChangeCode(int value)
+		{
+			this.changeCode = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+		}
+
+		public String getChangeNumber()
+		{
+			return this.changeNumber;
+		}
+
+		public int zGetChangeNumberAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(changeNumber);
+		}
+
+		public void setChangeNumber(String value)
+		{
+			this.changeNumber = StringPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache());
+		}
+
+		public void setChangeNumberNull()
+		{
+			this.setChangeNumber(null);
+		}
+
+		public int getCreateCode()
+		{
+			return this.createCode;
+		}
+
+		public void setCreateCode(int value)
+		{
+			this.createCode = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+		}
+
+		public int getLegalEntity()
+		{
+			return this.legalEntity;
+		}
+
+		public void setLegalEntity(int value)
+		{
+			this.legalEntity = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public int getProcCompanyId()
+		{
+			return this.procCompanyId;
+		}
+
+		public void setProcCompanyId(int value)
+		{
+			this.procCompanyId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTrialCode()
+		{
+			return this.trialCode;
+		}
+
+		public int zGetTrialCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(trialCode);
+		}
+
+		public void setTrialCode(String value)
+		{
+			this.trialCode = StringPool.getInstance().getOrAddToCache(value, LewAccountFinder.isFullCache());
+		}
+
+		public void setTrialCodeNull()
+		{
+			this.setTrialCode(null);
+		}
+
+		public void setLegalEntityNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setProcCompanyIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public void setCreateCodeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+		}
+
+		public void setChangeCodeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+		}
+
+		public void setAcctMstrSrcNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(LewAccountDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.accountId = this.accountId;
+			copy.accountNumber = this.accountNumber;
+			copy.accountSubNumber = this.accountSubNumber;
+			copy.accountType = this.accountType;
+			copy.acctDesc = this.acctDesc;
+			copy.acctExtLookup = this.acctExtLookup;
+			copy.acctMnem = this.acctMnem;
+			copy.acctMstrSrc = this.acctMstrSrc;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.changeCode = this.changeCode;
+			copy.changeNumber = this.changeNumber;
+			copy.createCode = this.createCode;
+			copy.legalEntity = this.legalEntity;
+			copy.procCompanyId = this.procCompanyId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.trialCode = this.trialCode;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[3];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.accountId = in.readInt();
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LewAccountFinder.isFullCache());
+			this.accountSubNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LewAccountFinder.isFullCache());
+			this.accountType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LewAccountFinder.isFullCache());
+			this.acctDesc = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LewAccountFinder.isFullCache());
+			this.acctExtLookup = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LewAccountFinder.isFullCache());
+			this.acctMnem = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LewAccountFinder.isFullCache());
+			this.acctMstrSrc = in.readInt();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, LewAccountFinder.businessDate().getInfinityDate()), LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+			this.changeCode = in.readInt();
+			this.changeNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LewAccountFinder.isFullCache());
+			this.createCode = in.readInt();
+			this.legalEntity = in.readInt();
+			this.procCompanyId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, LewAccountFinder.processingDate().getInfinityDate()), LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+			this.trialCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LewAccountFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final LewAccountData otherData = (LewAccountData) other;
+			if (getAccountId() != otherData.getAccountId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.accountId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, LewAccountFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, LewAccountFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.accountId = in.readInt();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, LewAccountFinder.businessDate().getInfinityDate()), LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, LewAccountFinder.processingDate().getInfinityDate()), LewAccountFinder.isFullCache(), LewAccountFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getContracts()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setContracts(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getContractsToLoad()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setContractsToLoad(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getParaPosition()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[2];
+			}
+
+			return null;
+		}
+
+		public void setParaPosition(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[2] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			LewAccountDataOffHeap data = new LewAccountDataOffHeap();
+			data.setAccountId(this.getAccountId());
+			data.setAccountNumber(this.getAccountNumber());
+			data.setAccountSubNumber(this.getAccountSubNumber());
+			data.setAccountType(this.getAccountType());
+			data.setAcctDesc(this.getAcctDesc());
+			data.setAcctExtLookup(this.getAcctExtLookup());
+			data.setAcctMnem(this.getAcctMnem());
+			data.setAcctMstrSrc(this.getAcctMstrSrc());
+			if (this.isAcctMstrSrcNull()) data.setAcctMstrSrcNull();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setChangeCode(this.getChangeCode());
+			if (this.isChangeCodeNull()) data.setChangeCodeNull();
+			data.setChangeNumber(this.getChangeNumber());
+			data.setCreateCode(this.getCreateCode());
+			if (this.isCreateCodeNull()) data.setCreateCodeNull();
+			data.setLegalEntity(this.getLegalEntity());
+			if (this.isLegalEntityNull()) data.setLegalEntityNull();
+			data.setProcCompanyId(this.getProcCompanyId());
+			if (this.isProcCompanyIdNull()) data.setProcCompanyIdNull();
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setTrialCode(this.getTrialCode());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final LewAccountData lewAccountData = (LewAccountData) newData;
+			this.setAccountNumber(lewAccountData.getAccountNumber());
+			this.setAccountSubNumber(lewAccountData.getAccountSubNumber());
+			this.setAccountType(lewAccountData.getAccountType());
+			this.setAcctDesc(lewAccountData.getAcctDesc());
+			this.setAcctExtLookup(lewAccountData.getAcctExtLookup());
+			this.setAcctMnem(lewAccountData.getAcctMnem());
+			this.setAcctMstrSrc(lewAccountData.getAcctMstrSrc());
+			if (lewAccountData.isAcctMstrSrcNull()) this.setAcctMstrSrcNull();
+			this.setBusinessDateFrom(lewAccountData.getBusinessDateFrom());
+			this.setBusinessDateTo(lewAccountData.getBusinessDateTo());
+			this.setChangeCode(lewAccountData.getChangeCode());
+			if (lewAccountData.isChangeCodeNull()) this.setChangeCodeNull();
+			this.setChangeNumber(lewAccountData.getChangeNumber());
+			this.setCreateCode(lewAccountData.getCreateCode());
+			if (lewAccountData.isCreateCodeNull()) this.setCreateCodeNull();
+			this.setLegalEntity(lewAccountData.getLegalEntity());
+			if (lewAccountData.isLegalEntityNull()) this.setLegalEntityNull();
+			this.setProcCompanyId(lewAccountData.getProcCompanyId());
+			if (lewAccountData.isProcCompanyIdNull()) this.setProcCompanyIdNull();
+			this.setProcessingDateFrom(lewAccountData.getProcessingDateFrom());
+			this.setProcessingDateTo(lewAccountData.getProcessingDateTo());
+			this.setTrialCode(lewAccountData.getTrialCode());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final LewAccountData other = (LewAccountData) newData;
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(other.getAccountNumber()) : !other.isAccountNumberNull())
+			{
+				return true;
+			}
+
+			if (!isAccountSubNumberNull() ? !getAccountSubNumber().equals(other.getAccountSubNumber()) : !other.isAccountSubNumberNull())
+			{
+				return true;
+			}
+
+			if (!isAccountTypeNull() ? !getAccountType().equals(other.getAccountType()) : !other.isAccountTypeNull())
+			{
+				return true;
+			}
+
+			if (!isAcctDescNull() ? !getAcctDesc().equals(other.getAcctDesc()) : !other.isAcctDescNull())
+			{
+				return true;
+			}
+
+			if (!isAcctExtLookupNull() ? !getAcctExtLookup().equals(other.getAcctExtLookup()) : !other.isAcctExtLookupNull())
+			{
+				return true;
+			}
+
+			if (!isAcctMnemNull() ? !getAcctMnem().equals(other.getAcctMnem()) : !other.isAcctMnemNull())
+			{
+				return true;
+			}
+
+			if ( isAcctMstrSrcNull() != other.isAcctMstrSrcNull() || getAcctMstrSrc() != other.getAcctMstrSrc())
+			{
+				return true;
+			}
+
+			if ( isChangeCodeNull() != other.isChangeCodeNull() || getChangeCode() != other.getChangeCode())
+			{
+				return true;
+			}
+
+			if (!isChangeNumberNull() ? !getChangeNumber().equals(other.getChangeNumber()) : !other.isChangeNumberNull())
+			{
+				return true;
+			}
+
+			if ( isCreateCodeNull() != other.isCreateCodeNull() || getCreateCode() != other.getCreateCode())
+			{
+				return true;
+			}
+
+			if ( isLegalEntityNull() != other.isLegalEntityNull() || getLegalEntity() != other.getLegalEntity())
+			{
+				return true;
+			}
+
+			if ( isProcCompanyIdNull() != other.isProcCompanyIdNull() || getProcCompanyId() != other.getProcCompanyId())
+			{
+				return true;
+			}
+
+			if (!isTrialCodeNull() ? !getTrialCode().equals(other.getTrialCode()) : !other.isTrialCodeNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			LewAccountDataOnHeap copy = new LewAccountDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			LewAccountDataOnHeap copy = new LewAccountDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountId: "+(""+getAccountId())+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			LewAccountData otherData = (LewAccountData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			LewAccountData otherData = (LewAccountData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.LewAccountData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return LewAccountFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return LewAccountFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.LewAccountData";
+		}
+	}
+
+	public class LewAccountDataOffHeap extends MithraOffHeapDataObject implements LewAccountData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public LewAccountDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 40);
+			this.zSetTimestamp(_storage, value, 48);
+			this.zSetTimestamp(_storage, value, 76);
+			this.zSetTimestamp(_storage, value, 84);
+		}
+
+		public LewAccountDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccountIdNull()
+		{
+			return false;
+		}
+
+		public boolean isAccountNumberNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isAccountSubNumberNull()
+		{
+			return zIsStringNull(_storage, 16);
+		}
+
+		public boolean isAccountTypeNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isAcctDescNull()
+		{
+			return zIsStringNull(_storage, 24);
+		}
+
+		public boolean isAcctExtLookupNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isAcctMnemNull()
+		{
+			return zIsStringNull(_storage, 32);
+		}
+
+		public boolean isAcctMstrSrcNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 48);
+		}
+
+		public boolean isChangeCodeNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isChangeNumberNull()
+		{
+			return zIsStringNull(_storage, 60);
+		}
+
+		public boolean isCreateCodeNull()
+		{
+			return zIsNull(_storage, 4, 2);
+		}
+
+		public boolean isLegalEntityNull()
+		{
+			return zIsNull(_storage, 4, 3);
+		}
+
+		public boolean isProcCompanyIdNull()
+		{
+			return zIsNull(_storage, 4, 4);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 76);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 84);
+		}
+
+		public boolean isTrialCodeNull()
+		{
+			return zIsStringNull(_storage, 92);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getAccountId());
+			out.writeObject(this.getAccountNumber());
+			out.writeObject(this.getAccountSubNumber());
+			out.writeObject(this.getAccountType());
+			out.writeObject(this.getAcctDesc());
+			out.writeObject(this.getAcctExtLookup());
+			out.writeObject(this.getAcctMnem());
+			out.writeInt(this.getAcctMstrSrc());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), LewAccountFinder.businessDate().getInfinityDate());
+			out.writeInt(this.getChangeCode());
+			out.writeObject(this.getChangeNumber());
+			out.writeInt(this.getCreateCode());
+			out.writeInt(this.getLegalEntity());
+			out.writeInt(this.getProcCompanyId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), LewAccountFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getTrialCode());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isLegalEntityNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isProcCompanyIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			if (isCreateCodeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+			}
+
+			if (isChangeCodeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+			}
+
+			if (isAcctMstrSrcNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public int getAccountId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setAccountId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setAccountIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getAccountNumber()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public String getAccountSubNumber()
+		{
+			return zGetString(_storage, 16);
+		}
+
+		public int zGetAccountSubNumberAsInt()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setAccountSubNumber(String value)
+		{
+			zSetString(_storage, value, 16);
+		}
+
+		public void setAccountSubNumberNull()
+		{
+			this.setAccountSubNumber(null);
+		}
+
+		public String getAccountType()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetAccountTypeAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setAccountType(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setAccountTypeNull()
+		{
+			this.setAccountType(null);
+		}
+
+		public String getAcctDesc()
+		{
+			return zGetString(_storage, 24);
+		}
+
+		public int zGetAcctDescAsInt()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setAcctDesc(String value)
+		{
+			zSetString(_storage, value, 24);
+		}
+
+		public void setAcctDescNull()
+		{
+			this.setAcctDesc(null);
+		}
+
+		public String getAcctExtLookup()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetAcctExtLookupAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setAcctExtLookup(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setAcctExtLookupNull()
+		{
+			this.setAcctExtLookup(null);
+		}
+
+		public String getAcctMnem()
+		{
+			return zGetString(_storage, 32);
+		}
+
+		public int zGetAcctMnemAsInt()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setAcctMnem(String value)
+		{
+			zSetString(_storage, value, 32);
+		}
+
+		public void setAcctMnemNull()
+		{
+			this.setAcctMnem(null);
+		}
+
+		public int getAcctMstrSrc()
+		{
+			return zGetInteger(_storage, 36);
+		}
+
+		public void setAcctMstrSrc(int value)
+		{
+			zSetInteger(_storage, value, 36, 4, 0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 48);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 48);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 48);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getChangeCode()
+		{
+			return zGetInteger(_storage, 56);
+		}
+
+		public void setChangeCode(int value)
+		{
+			zSetInteger(_storage, value, 56, 4, 1);
+		}
+
+		public String getChangeNumber()
+		{
+			return zGetString(_storage, 60);
+		}
+
+		public int zGetChangeNumberAsInt()
+		{
+			return zGetInteger(_storage, 60);
+		}
+
+		public void setChangeNumber(String value)
+		{
+			zSetString(_storage, value, 60);
+		}
+
+		public void setChangeNumberNull()
+		{
+			this.setChangeNumber(null);
+		}
+
+		public int getCreateCode()
+		{
+			return zGetInteger(_storage, 64);
+		}
+
+		public void setCreateCode(int value)
+		{
+			zSetInteger(_storage, value, 64, 4, 2);
+		}
+
+		public int getLegalEntity()
+		{
+			return zGetInteger(_storage, 68);
+		}
+
+		public void setLegalEntity(int value)
+		{
+			zSetInteger(_storage, value, 68, 4, 3);
+		}
+
+		public int getProcCompanyId()
+		{
+			return zGetInteger(_storage, 72);
+		}
+
+		public void setProcCompanyId(int value)
+		{
+			zSetInteger(_storage, value, 72, 4, 4);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 76);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 76);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 76);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 84);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 84);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 84);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTrialCode()
+		{
+			return zGetString(_storage, 92);
+		}
+
+		public int zGetTrialCodeAsInt()
+		{
+			return zGetInteger(_storage, 92);
+		}
+
+		public void setTrialCode(String value)
+		{
+			zSetString(_storage, value, 92);
+		}
+
+		public void setTrialCodeNull()
+		{
+			this.setTrialCode(null);
+		}
+
+		public void setLegalEntityNull()
+		{
+			zSetNull(_storage, 4, 3);
+		}
+
+		public void setProcCompanyIdNull()
+		{
+			zSetNull(_storage, 4, 4);
+		}
+
+		public void setCreateCodeNull()
+		{
+			zSetNull(_storage, 4, 2);
+		}
+
+		public void setChangeCodeNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public void setAcctMstrSrcNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(LewAccountDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountId = this.getAccountId();
+			copy.accountNumber = this.getAccountNumber();
+			copy.accountSubNumber = this.getAccountSubNumber();
+			copy.accountType = this.getAccountType();
+			copy.acctDesc = this.getAcctDesc();
+			copy.acctExtLookup = this.getAcctExtLookup();
+			copy.acctMnem = this.getAcctMnem();
+			copy.acctMstrSrc = this.getAcctMstrSrc();
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.changeCode = this.getChangeCode();
+			copy.changeNumber = this.getChangeNumber();
+			copy.createCode = this.getCreateCode();
+			copy.legalEntity = this.getLegalEntity();
+			copy.procCompanyId = this.getProcCompanyId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.trialCode = this.getTrialCode();
+			if (isLegalEntityNull())
+			{
+				copy.setLegalEntityNull();
+			}
+
+			if (isProcCompanyIdNull())
+			{
+				copy.setProcCompanyIdNull();
+			}
+
+			if (isCreateCodeNull())
+			{
+				copy.setCreateCodeNull();
+			}
+
+			if (isChangeCodeNull())
+			{
+				copy.setChangeCodeNull();
+			}
+
+			if (isAcctMstrSrcNull())
+			{
+				copy.setAcctMstrSrcNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 16);
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetString(_storage, (String)in.readObject(), 24);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetString(_storage, (String)in.readObject(), 32);
+			zSetInteger(_storage, in.readInt(), 36, 4, 0, (isNullBits0 & 1 << 4) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetInteger(_storage, in.readInt(), 56, 4, 1, (isNullBits0 & 1 << 3) != 0 );
+			zSetString(_storage, (String)in.readObject(), 60);
+			zSetInteger(_storage, in.readInt(), 64, 4, 2, (isNullBits0 & 1 << 2) != 0 );
+			zSetInteger(_storage, in.readInt(), 68, 4, 3, (isNullBits0 & 1) != 0 );
+			zSetInteger(_storage, in.readInt(), 72, 4, 4, (isNullBits0 & 1 << 1) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 76);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 84);
+			zSetString(_storage, (String)in.readObject(), 92);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof LewAccountDataOffHeap)
+			{
+				final LewAccountDataOffHeap otherData = (LewAccountDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final LewAccountData otherData = (LewAccountData) other;
+			if (getAccountId() != otherData.getAccountId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getAccountId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), LewAccountFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), LewAccountFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 76);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 84);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getContracts()
+		{
+			return null;
+		}
+
+		public void setContracts(Object related)
+		{
+		}
+
+		public Object getContractsToLoad()
+		{
+			return null;
+		}
+
+		public void setContractsToLoad(Object related)
+		{
+		}
+
+		public Object getParaPosition()
+		{
+			return null;
+		}
+
+		public void setParaPosition(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final LewAccountData lewAccountData = (LewAccountData) newData;
+			this.setAccountNumber(lewAccountData.getAccountNumber());
+			this.setAccountSubNumber(lewAccountData.getAccountSubNumber());
+			this.setAccountType(lewAccountData.getAccountType());
+			this.setAcctDesc(lewAccountData.getAcctDesc());
+			this.setAcctExtLookup(lewAccountData.getAcctExtLookup());
+			this.setAcctMnem(lewAccountData.getAcctMnem());
+			this.setAcctMstrSrc(lewAccountData.getAcctMstrSrc());
+			if (lewAccountData.isAcctMstrSrcNull()) this.setAcctMstrSrcNull();
+			this.setBusinessDateFrom(lewAccountData.getBusinessDateFrom());
+			this.setBusinessDateTo(lewAccountData.getBusinessDateTo());
+			this.setChangeCode(lewAccountData.getChangeCode());
+			if (lewAccountData.isChangeCodeNull()) this.setChangeCodeNull();
+			this.setChangeNumber(lewAccountData.getChangeNumber());
+			this.setCreateCode(lewAccountData.getCreateCode());
+			if (lewAccountData.isCreateCodeNull()) this.setCreateCodeNull();
+			this.setLegalEntity(lewAccountData.getLegalEntity());
+			if (lewAccountData.isLegalEntityNull()) this.setLegalEntityNull();
+			this.setProcCompanyId(lewAccountData.getProcCompanyId());
+			if (lewAccountData.isProcCompanyIdNull()) this.setProcCompanyIdNull();
+			this.setProcessingDateFrom(lewAccountData.getProcessingDateFrom());
+			this.setProcessingDateTo(lewAccountData.getProcessingDateTo());
+			this.setTrialCode(lewAccountData.getTrialCode());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final LewAccountData other = (LewAccountData) newData;
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(other.getAccountNumber()) : !other.isAccountNumberNull())
+			{
+				return true;
+			}
+
+			if (!isAccountSubNumberNull() ? !getAccountSubNumber().equals(other.getAccountSubNumber()) : !other.isAccountSubNumberNull())
+			{
+				return true;
+			}
+
+			if (!isAccountTypeNull() ? !getAccountType().equals(other.getAccountType()) : !other.isAccountTypeNull())
+			{
+				return true;
+			}
+
+			if (!isAcctDescNull() ? !getAcctDesc().equals(other.getAcctDesc()) : !other.isAcctDescNull())
+			{
+				return true;
+			}
+
+			if (!isAcctExtLookupNull() ? !getAcctExtLookup().equals(other.getAcctExtLookup()) : !other.isAcctExtLookupNull())
+			{
+				return true;
+			}
+
+			if (!isAcctMnemNull() ? !getAcctMnem().equals(other.getAcctMnem()) : !other.isAcctMnemNull())
+			{
+				return true;
+			}
+
+			if ( isAcctMstrSrcNull() != other.isAcctMstrSrcNull() || getAcctMstrSrc() != other.getAcctMstrSrc())
+			{
+				return true;
+			}
+
+			if ( isChangeCodeNull() != other.isChangeCodeNull() || getChangeCode() != other.getChangeCode())
+			{
+				return true;
+			}
+
+			if (!isChangeNumberNull() ? !getChangeNumber().equals(other.getChangeNumber()) : !other.isChangeNumberNull())
+			{
+				return true;
+			}
+
+			if ( isCreateCodeNull() != other.isCreateCodeNull() || getCreateCode() != other.getCreateCode())
+			{
+				return true;
+			}
+
+			if ( isLegalEntityNull() != other.isLegalEntityNull() || getLegalEntity() != other.getLegalEntity())
+			{
+				return true;
+			}
+
+			if ( isProcCompanyIdNull() != other.isProcCompanyIdNull() || getProcCompanyId() != other.getProcCompanyId())
+			{
+				return true;
+			}
+
+			if (!isTrialCodeNull() ? !getTrialCode().equals(other.getTrialCode()) : !other.isTrialCodeNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			LewAccountDataOnHeap copy = new LewAccountDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			LewAccountDataOnHeap copy = new LewAccountDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountId: "+(""+getAccountId())+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			LewAccountData otherData = (LewAccountData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			LewAccountData otherData = (LewAccountData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.LewAccountData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return LewAccountFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return LewAccountFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.LewAccountData";
+		}
+	}
+}
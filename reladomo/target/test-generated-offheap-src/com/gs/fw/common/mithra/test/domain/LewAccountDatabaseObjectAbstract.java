@@ -0,0 +1,739 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.glew.LewContract;
+import com.gs.fw.common.mithra.test.glew.LewContractAbstract;
+import com.gs.fw.common.mithra.test.glew.LewContractData;
+import com.gs.fw.common.mithra.test.glew.LewContractFinder;
+import com.gs.fw.common.mithra.test.glew.LewContractList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class LewAccountDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ACCT_N,ACCT_SUB_N,LEGAL_ENTITY_I,PROC_COMPANY_I,TRIAL_C,ACCT_TYP_C,ACCT_MNEM_N,ACCT_EXT_LOOKUP_N,ACCT_DESC_T,ACCT_CREATE_C,ACCT_CHANGE_C,ACCT_CHANGE_N,ACCT_MSTR_SRC_I,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ACCT_N,t0.ACCT_SUB_N,t0.LEGAL_ENTITY_I,t0.PROC_COMPANY_I,t0.TRIAL_C,t0.ACCT_TYP_C,t0.ACCT_MNEM_N,t0.ACCT_EXT_LOOKUP_N,t0.ACCT_DESC_T,t0.ACCT_CREATE_C,t0.ACCT_CHANGE_C,t0.ACCT_CHANGE_N,t0.ACCT_MSTR_SRC_I,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ACCT_I = ?";
+	private static final String PK_INDEX_COLS = "ACCT_I";
+	protected LewAccountDatabaseObjectAbstract()
+	{
+		super("LewAccount", "com.gs.fw.common.mithra.test.domain.LewAccountFinder",
+			18, 18,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return LewAccountFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return LewAccountFinder.getFinderInstance();
+	}
+
+	public static LewAccountData allocateOnHeapData()
+	{
+		return new LewAccountData.LewAccountDataOnHeap();
+	}
+
+	public static LewAccountData allocateOffHeapData()
+	{
+		return new LewAccountData.LewAccountDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new LewAccountData.LewAccountDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), LewAccountFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), LewAccountFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		LewAccountData data = new LewAccountData.LewAccountDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), LewAccountFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), LewAccountFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(LewAccountData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.LewAccount", LewAccountFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("LewAccount"));
+			LewAccountData.LewAccountDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(LewAccountFinder.getPrimaryKeyAttributes(), LewAccountFinder.getAsOfAttributes(), this, LewAccountFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(LewAccountFinder.getPrimaryKeyAttributes(), LewAccountFinder.getAsOfAttributes(), this, LewAccountFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(LewAccountFinder.getPrimaryKeyAttributes(), LewAccountFinder.getAsOfAttributes(), this, LewAccountFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(LewAccountFinder.getPrimaryKeyAttributes(), LewAccountFinder.getAsOfAttributes(), this, LewAccountFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(LewAccountFinder.getPrimaryKeyAttributes(), LewAccountFinder.getAsOfAttributes(), this, LewAccountFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(LewAccountData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.LewAccount", LewAccountFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			LewAccountData.LewAccountDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(LewAccountFinder.getPrimaryKeyAttributes(), LewAccountFinder.getAsOfAttributes(), this, LewAccountFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(LewAccountFinder.getPrimaryKeyAttributes(), LewAccountFinder.getAsOfAttributes(), this, LewAccountFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			LewAccountFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			LewAccountFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			LewAccount.zConfigFullTx();
+		}
+		else
+		{
+			LewAccount.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateLewAccountData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkLewAccountData(1, (LewAccountData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateLewAccountPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getLewAccountTableName();
+	}
+
+	public String getLewAccountTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		LewAccountData data = (LewAccountData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (LewAccountFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		LewAccountData data = (LewAccountData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAccountId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == LewAccountFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == LewAccountFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (LewAccountFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ACCT_I = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ACCT_I,t0.ACCT_N,t0.ACCT_SUB_N,t0.LEGAL_ENTITY_I,t0.PROC_COMPANY_I,t0.TRIAL_C,t0.ACCT_TYP_C,t0.ACCT_MNEM_N,t0.ACCT_EXT_LOOKUP_N,t0.ACCT_DESC_T,t0.ACCT_CREATE_C,t0.ACCT_CHANGE_C,t0.ACCT_CHANGE_N,t0.ACCT_MSTR_SRC_I,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*18);
+		result.append(databaseAlias).append(".").append("ACCT_I");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_N");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_SUB_N");
+		result.append(",").append(databaseAlias).append(".").append("LEGAL_ENTITY_I");
+		result.append(",").append(databaseAlias).append(".").append("PROC_COMPANY_I");
+		result.append(",").append(databaseAlias).append(".").append("TRIAL_C");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_MNEM_N");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_EXT_LOOKUP_N");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_DESC_T");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_CREATE_C");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_CHANGE_C");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_CHANGE_N");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_MSTR_SRC_I");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public LewAccountData inflateLewAccountData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		LewAccountData data = inflateLewAccountPkData(rs, dt);
+		inflateNonPkLewAccountData(2, data, rs, dt);
+		return data;
+	}
+
+	public LewAccountData inflateLewAccountPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		LewAccountData _data = new LewAccountData.LewAccountDataOnHeap();
+		int _pos = 1;
+		_data.setAccountId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "accountId");
+		return _data;
+	}
+
+	public void inflateNonPkLewAccountData(int _pos, LewAccountData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			LewAccountData _data = _datax;
+			_data.setAccountNumber(trimString(_rs.getString(_pos++)));
+			_data.setAccountSubNumber(trimString(_rs.getString(_pos++)));
+			_data.setLegalEntity(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setLegalEntityNull();
+			}
+
+			_data.setProcCompanyId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProcCompanyIdNull();
+			}
+
+			_data.setTrialCode(trimString(_rs.getString(_pos++)));
+			_data.setAccountType(trimString(_rs.getString(_pos++)));
+			_data.setAcctMnem(trimString(_rs.getString(_pos++)));
+			_data.setAcctExtLookup(trimString(_rs.getString(_pos++)));
+			_data.setAcctDesc(trimString(_rs.getString(_pos++)));
+			_data.setCreateCode(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCreateCodeNull();
+			}
+
+			_data.setChangeCode(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setChangeCodeNull();
+			}
+
+			_data.setChangeNumber(trimString(_rs.getString(_pos++)));
+			_data.setAcctMstrSrc(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAcctMstrSrcNull();
+			}
+
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				LewAccountFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				LewAccountFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getLewAccountTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "LEW_ACCOUNT";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		LewAccountData data = (LewAccountData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAccountId());
+		if (data.isAccountNumberNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAccountNumber());
+		}
+
+		if (data.isAccountSubNumberNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAccountSubNumber());
+		}
+
+		if (data.isLegalEntityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getLegalEntity());
+		}
+
+		if (data.isProcCompanyIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getProcCompanyId());
+		}
+
+		if (data.isTrialCodeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTrialCode());
+		}
+
+		if (data.isAccountTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAccountType());
+		}
+
+		if (data.isAcctMnemNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAcctMnem());
+		}
+
+		if (data.isAcctExtLookupNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAcctExtLookup());
+		}
+
+		if (data.isAcctDescNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAcctDesc());
+		}
+
+		if (data.isCreateCodeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getCreateCode());
+		}
+
+		if (data.isChangeCodeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getChangeCode());
+		}
+
+		if (data.isChangeNumberNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getChangeNumber());
+		}
+
+		if (data.isAcctMstrSrcNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getAcctMstrSrc());
+		}
+
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateToNull())
+		{
+			throwNullAttribute("businessDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == LewAccountFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == LewAccountFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "ACCT_I,ACCT_N,ACCT_SUB_N,LEGAL_ENTITY_I,PROC_COMPANY_I,TRIAL_C,ACCT_TYP_C,ACCT_MNEM_N,ACCT_EXT_LOOKUP_N,ACCT_DESC_T,ACCT_CREATE_C,ACCT_CHANGE_C,ACCT_CHANGE_N,ACCT_MSTR_SRC_I,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		LewAccount newObject = new LewAccount(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromLewAccountData((LewAccountData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(LewAccountFinder.getMithraObjectPortal(),
+			LewAccountFinder.processingDate())
+		,LewAccountFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_Z = ?";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		LewAccountData data = (LewAccountData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAccountId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, LewAccountFinder.businessDate(),
+			LewAccountFinder.processingDate());
+	}
+}
@@ -0,0 +1,297 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.glew.LewContract;
+import com.gs.fw.common.mithra.test.glew.LewContractAbstract;
+import com.gs.fw.common.mithra.test.glew.LewContractData;
+import com.gs.fw.common.mithra.test.glew.LewContractFinder;
+import com.gs.fw.common.mithra.test.glew.LewContractList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class LewAccountListAbstract extends DelegatingList<LewAccount> implements MithraDatedTransactionalList<LewAccount>
+{
+	public LewAccountListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public LewAccountListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public LewAccountListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public LewAccountListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public LewAccount[] elements()
+	{
+		LewAccount[] result = new LewAccount[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public LewAccountList intersection(LewAccountList another)
+	{
+		return (LewAccountList)super.intersection(another);
+	}
+
+	public LewAccount getLewAccountAt(int index)
+	{
+		return (LewAccount)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	LewContract.acctId = this.accountId and
+	LewContract.region = "NYK"</pre>
+	* @return contracts
+	*/
+	public LewContractList getContracts()
+	{
+		return (LewContractList) this.zGetDelegated().resolveRelationship(this, LewAccountFinder.contracts());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	LewContract.acctId = this.accountId</pre>
+	* @return contracts to load
+	*/
+	public LewContractList getContractsToLoad()
+	{
+		return (LewContractList) this.zGetDelegated().resolveRelationship(this, LewAccountFinder.contractsToLoad());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedAccount.id = this.accountId and DatedAccount.deskId = {DatedAccount.complexFunction(param, 0)}</pre>
+	* @return The test one to one source param
+	*/
+	public DatedAccountList getTestOneToOneSourceParams(int param)
+	{
+		return (DatedAccountList) this.zGetDelegated().resolveRelationship(this, LewAccountFinder.testOneToOneSourceParam(param));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.accountNumber = ParaPosition.accountNumber and this.accountSubNumber = ParaPosition.accountSubtype and this.businessDate = ParaPosition.businessDate )</pre>
+	* @see ParaPosition#getAccount() reverse relationship ParaPosition.getAccount()
+	* @return para position
+	*/
+	public ParaPositionList getParaPosition()
+	{
+		return (ParaPositionList) this.zGetDelegated().resolveRelationship(this, LewAccountFinder.paraPosition());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return LewAccountFinder.getMithraObjectPortal();
+	}
+
+	public LewAccountList getNonPersistentCopy()
+	{
+		LewAccountList result = new LewAccountList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public LewAccountList asAdhoc()
+	{
+		return (LewAccountList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<LewAccount> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public LewAccountList merge(MithraTransactionalList<LewAccount> incoming, TopLevelMergeOptions<LewAccount> mergeOptions)
+	{
+		return (LewAccountList) super.merge(incoming, mergeOptions);
+	}
+
+	public LewAccountList getDetachedCopy()
+	{
+		LewAccountList result = new LewAccountList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(int newValue)
+	{
+		zSetInteger(LewAccountFinder.accountId(), newValue);
+	}
+
+	public void setAccountNumber(String newValue)
+	{
+		zSetString(LewAccountFinder.accountNumber(), newValue);
+	}
+
+	public void setAccountSubNumber(String newValue)
+	{
+		zSetString(LewAccountFinder.accountSubNumber(), newValue);
+	}
+
+	public void setLegalEntity(int newValue)
+	{
+		zSetInteger(LewAccountFinder.legalEntity(), newValue);
+	}
+
+	public void setProcCompanyId(int newValue)
+	{
+		zSetInteger(LewAccountFinder.procCompanyId(), newValue);
+	}
+
+	public void setTrialCode(String newValue)
+	{
+		zSetString(LewAccountFinder.trialCode(), newValue);
+	}
+
+	public void setAccountType(String newValue)
+	{
+		zSetString(LewAccountFinder.accountType(), newValue);
+	}
+
+	public void setAcctMnem(String newValue)
+	{
+		zSetString(LewAccountFinder.acctMnem(), newValue);
+	}
+
+	public void setAcctExtLookup(String newValue)
+	{
+		zSetString(LewAccountFinder.acctExtLookup(), newValue);
+	}
+
+	public void setAcctDesc(String newValue)
+	{
+		zSetString(LewAccountFinder.acctDesc(), newValue);
+	}
+
+	public void setCreateCode(int newValue)
+	{
+		zSetInteger(LewAccountFinder.createCode(), newValue);
+	}
+
+	public void setChangeCode(int newValue)
+	{
+		zSetInteger(LewAccountFinder.changeCode(), newValue);
+	}
+
+	public void setChangeNumber(String newValue)
+	{
+		zSetString(LewAccountFinder.changeNumber(), newValue);
+	}
+
+	public void setAcctMstrSrc(int newValue)
+	{
+		zSetInteger(LewAccountFinder.acctMstrSrc(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(LewAccountFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(LewAccountFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(LewAccountFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(LewAccountFinder.processingDateTo(), newValue);
+	}
+
+	public void setLegalEntityNull()
+	{
+		zSetAttributeNull(LewAccountFinder.legalEntity());
+	}
+
+	public void setProcCompanyIdNull()
+	{
+		zSetAttributeNull(LewAccountFinder.procCompanyId());
+	}
+
+	public void setCreateCodeNull()
+	{
+		zSetAttributeNull(LewAccountFinder.createCode());
+	}
+
+	public void setChangeCodeNull()
+	{
+		zSetAttributeNull(LewAccountFinder.changeCode());
+	}
+
+	public void setAcctMstrSrcNull()
+	{
+		zSetAttributeNull(LewAccountFinder.acctMstrSrc());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
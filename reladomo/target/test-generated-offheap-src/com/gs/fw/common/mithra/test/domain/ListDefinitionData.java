@@ -0,0 +1,975 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ListDefinitionData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 36;
+	boolean isListDescNull();
+	String getListDesc();
+	void setListDesc(String value);
+	void setListDescNull();
+	int zGetListDescAsInt();
+	boolean isListIdNull();
+	String getListId();
+	void setListId(String value);
+	void setListIdNull();
+	int zGetListIdAsInt();
+	boolean isListNameNull();
+	String getListName();
+	void setListName(String value);
+	void setListNameNull();
+	int zGetListNameAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isUpdateByNull();
+	String getUpdateBy();
+	void setUpdateBy(String value);
+	void setUpdateByNull();
+	int zGetUpdateByAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getControlDefinitionMappings();
+	void setControlDefinitionMappings(Object related);
+	public class ListDefinitionDataOnHeap implements ListDefinitionData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private String listDesc;
+		private String listId;
+		private String listName;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String updateBy;
+		public boolean isListDescNull()
+		{
+			return this.getListDesc() == null;
+		}
+
+		public boolean isListIdNull()
+		{
+			return this.getListId() == null;
+		}
+
+		public boolean isListNameNull()
+		{
+			return this.getListName() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return this.getUpdateBy() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.listDesc);
+			out.writeObject(this.listId);
+			out.writeObject(this.listName);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, ListDefinitionFinder.processingDate().getInfinityDate());
+			out.writeObject(this.updateBy);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getListDesc()
+		{
+			return this.listDesc;
+		}
+
+		public int zGetListDescAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(listDesc);
+		}
+
+		public void setListDesc(String value)
+		{
+			this.listDesc = StringPool.getInstance().getOrAddToCache(value, ListDefinitionFinder.isFullCache());
+		}
+
+		public void setListDescNull()
+		{
+			this.setListDesc(null);
+		}
+
+		public String getListId()
+		{
+			return this.listId;
+		}
+
+		public int zGetListIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(listId);
+		}
+
+		public void setListId(String value)
+		{
+			this.listId = StringPool.getInstance().getOrAddToCache(value, ListDefinitionFinder.isFullCache());
+		}
+
+		public void setListIdNull()
+		{
+			this.setListId(null);
+		}
+
+		public String getListName()
+		{
+			return this.listName;
+		}
+
+		public int zGetListNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(listName);
+		}
+
+		public void setListName(String value)
+		{
+			this.listName = StringPool.getInstance().getOrAddToCache(value, ListDefinitionFinder.isFullCache());
+		}
+
+		public void setListNameNull()
+		{
+			this.setListName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, ListDefinitionFinder.isFullCache(), ListDefinitionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, ListDefinitionFinder.isFullCache(), ListDefinitionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUpdateBy()
+		{
+			return this.updateBy;
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(updateBy);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			this.updateBy = StringPool.getInstance().getOrAddToCache(value, ListDefinitionFinder.isFullCache());
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(ListDefinitionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.listDesc = this.listDesc;
+			copy.listId = this.listId;
+			copy.listName = this.listName;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.updateBy = this.updateBy;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.listDesc = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ListDefinitionFinder.isFullCache());
+			this.listId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ListDefinitionFinder.isFullCache());
+			this.listName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ListDefinitionFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ListDefinitionFinder.isFullCache(), ListDefinitionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, ListDefinitionFinder.processingDate().getInfinityDate()), ListDefinitionFinder.isFullCache(), ListDefinitionFinder.isOffHeap());
+			this.updateBy = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ListDefinitionFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final ListDefinitionData otherData = (ListDefinitionData) other;
+			if (!isListIdNull() ? !getListId().equals(otherData.getListId()) : !otherData.isListIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.listId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, ListDefinitionFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.listId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ListDefinitionFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ListDefinitionFinder.isFullCache(), ListDefinitionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, ListDefinitionFinder.processingDate().getInfinityDate()), ListDefinitionFinder.isFullCache(), ListDefinitionFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getControlDefinitionMappings()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setControlDefinitionMappings(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			ListDefinitionDataOffHeap data = new ListDefinitionDataOffHeap();
+			data.setListDesc(this.getListDesc());
+			data.setListId(this.getListId());
+			data.setListName(this.getListName());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setUpdateBy(this.getUpdateBy());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ListDefinitionData listDefinitionData = (ListDefinitionData) newData;
+			this.setListDesc(listDefinitionData.getListDesc());
+			this.setListName(listDefinitionData.getListName());
+			this.setProcessingDateFrom(listDefinitionData.getProcessingDateFrom());
+			this.setProcessingDateTo(listDefinitionData.getProcessingDateTo());
+			this.setUpdateBy(listDefinitionData.getUpdateBy());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ListDefinitionData other = (ListDefinitionData) newData;
+			if (!isListDescNull() ? !getListDesc().equals(other.getListDesc()) : !other.isListDescNull())
+			{
+				return true;
+			}
+
+			if (!isListNameNull() ? !getListName().equals(other.getListName()) : !other.isListNameNull())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ListDefinitionDataOnHeap copy = new ListDefinitionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ListDefinitionDataOnHeap copy = new ListDefinitionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "listId: "+"'"+getListId()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ListDefinitionData otherData = (ListDefinitionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ListDefinitionData otherData = (ListDefinitionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ListDefinitionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ListDefinitionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ListDefinitionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ListDefinitionData";
+		}
+	}
+
+	public class ListDefinitionDataOffHeap extends MithraOffHeapDataObject implements ListDefinitionData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public ListDefinitionDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 24);
+		}
+
+		public ListDefinitionDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isListDescNull()
+		{
+			return zIsStringNull(_storage, 8);
+		}
+
+		public boolean isListIdNull()
+		{
+			return zIsStringNull(_storage, 4);
+		}
+
+		public boolean isListNameNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return zIsStringNull(_storage, 32);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getListDesc());
+			out.writeObject(this.getListId());
+			out.writeObject(this.getListName());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ListDefinitionFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getUpdateBy());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getListDesc()
+		{
+			return zGetString(_storage, 8);
+		}
+
+		public int zGetListDescAsInt()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setListDesc(String value)
+		{
+			zSetString(_storage, value, 8);
+		}
+
+		public void setListDescNull()
+		{
+			this.setListDesc(null);
+		}
+
+		public String getListId()
+		{
+			return zGetString(_storage, 4);
+		}
+
+		public int zGetListIdAsInt()
+		{
+			return zGetInteger(_storage, 4);
+		}
+
+		public void setListId(String value)
+		{
+			zSetString(_storage, value, 4);
+		}
+
+		public void setListIdNull()
+		{
+			this.setListId(null);
+		}
+
+		public String getListName()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetListNameAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setListName(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setListNameNull()
+		{
+			this.setListName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUpdateBy()
+		{
+			return zGetString(_storage, 32);
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			zSetString(_storage, value, 32);
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(ListDefinitionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.listDesc = this.getListDesc();
+			copy.listId = this.getListId();
+			copy.listName = this.getListName();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.updateBy = this.getUpdateBy();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetString(_storage, (String)in.readObject(), 4);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetString(_storage, (String)in.readObject(), 32);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof ListDefinitionDataOffHeap)
+			{
+				final ListDefinitionDataOffHeap otherData = (ListDefinitionDataOffHeap) other;
+				if (this.zGetInteger(_storage, 4) != otherData.zGetInteger(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final ListDefinitionData otherData = (ListDefinitionData) other;
+			if (!isListIdNull() ? !getListId().equals(otherData.getListId()) : !otherData.isListIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.getListId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ListDefinitionFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 4);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getControlDefinitionMappings()
+		{
+			return null;
+		}
+
+		public void setControlDefinitionMappings(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ListDefinitionData listDefinitionData = (ListDefinitionData) newData;
+			this.setListDesc(listDefinitionData.getListDesc());
+			this.setListName(listDefinitionData.getListName());
+			this.setProcessingDateFrom(listDefinitionData.getProcessingDateFrom());
+			this.setProcessingDateTo(listDefinitionData.getProcessingDateTo());
+			this.setUpdateBy(listDefinitionData.getUpdateBy());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ListDefinitionData other = (ListDefinitionData) newData;
+			if (!isListDescNull() ? !getListDesc().equals(other.getListDesc()) : !other.isListDescNull())
+			{
+				return true;
+			}
+
+			if (!isListNameNull() ? !getListName().equals(other.getListName()) : !other.isListNameNull())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ListDefinitionDataOnHeap copy = new ListDefinitionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ListDefinitionDataOnHeap copy = new ListDefinitionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "listId: "+"'"+getListId()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ListDefinitionData otherData = (ListDefinitionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ListDefinitionData otherData = (ListDefinitionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ListDefinitionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ListDefinitionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ListDefinitionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ListDefinitionData";
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ListDefinitionListAbstract extends DelegatingList<ListDefinition> implements MithraDatedTransactionalList<ListDefinition>
+{
+	public ListDefinitionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ListDefinitionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ListDefinitionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ListDefinitionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ListDefinition[] elements()
+	{
+		ListDefinition[] result = new ListDefinition[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ListDefinitionList intersection(ListDefinitionList another)
+	{
+		return (ListDefinitionList)super.intersection(another);
+	}
+
+	public ListDefinition getListDefinitionAt(int index)
+	{
+		return (ListDefinition)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.listId = ControlListDefinitionMapping.listId</pre>
+	* @see ControlListDefinitionMapping#getListDefinition() reverse relationship ControlListDefinitionMapping.getListDefinition()
+	* @return control definition mappings
+	*/
+	public ControlListDefinitionMappingList getControlDefinitionMappings()
+	{
+		return (ControlListDefinitionMappingList) this.zGetDelegated().resolveRelationship(this, ListDefinitionFinder.controlDefinitionMappings());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ListDefinitionFinder.getMithraObjectPortal();
+	}
+
+	public ListDefinitionList getNonPersistentCopy()
+	{
+		ListDefinitionList result = new ListDefinitionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ListDefinitionList asAdhoc()
+	{
+		return (ListDefinitionList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ListDefinition> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ListDefinitionList merge(MithraTransactionalList<ListDefinition> incoming, TopLevelMergeOptions<ListDefinition> mergeOptions)
+	{
+		return (ListDefinitionList) super.merge(incoming, mergeOptions);
+	}
+
+	public ListDefinitionList getDetachedCopy()
+	{
+		ListDefinitionList result = new ListDefinitionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setListId(String newValue)
+	{
+		zSetString(ListDefinitionFinder.listId(), newValue);
+	}
+
+	public void setListName(String newValue)
+	{
+		zSetString(ListDefinitionFinder.listName(), newValue);
+	}
+
+	public void setListDesc(String newValue)
+	{
+		zSetString(ListDefinitionFinder.listDesc(), newValue);
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		zSetString(ListDefinitionFinder.updateBy(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ListDefinitionFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ListDefinitionFinder.processingDateTo(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
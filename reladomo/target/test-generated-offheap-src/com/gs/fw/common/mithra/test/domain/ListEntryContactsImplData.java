@@ -0,0 +1,418 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ListEntryContactsImplData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private String emplId;
+	private String listEntryRole;
+	private byte[] listId;
+	private int quantity;
+	public boolean isEmplIdNull()
+	{
+		return this.getEmplId() == null;
+	}
+
+	public boolean isListEntryRoleNull()
+	{
+		return this.getListEntryRole() == null;
+	}
+
+	public boolean isListIdNull()
+	{
+		return this.getListId() == null;
+	}
+
+	public boolean isQuantityNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.emplId);
+		out.writeObject(this.listEntryRole);
+		if (listId == null) out.writeInt(-1); else 
+		{
+			out.writeInt(listId.length); out.write(listId); 
+		}
+
+		;
+		out.writeInt(this.quantity);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getEmplId()
+	{
+		return this.emplId;
+	}
+
+	public int zGetEmplIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(emplId);
+	}
+
+	public void setEmplId(String value)
+	{
+		this.emplId = StringPool.getInstance().getOrAddToCache(value, ListEntryContactsImplFinder.isFullCache());
+	}
+
+	public void setEmplIdNull()
+	{
+		this.setEmplId(null);
+	}
+
+	public String getListEntryRole()
+	{
+		return this.listEntryRole;
+	}
+
+	public int zGetListEntryRoleAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(listEntryRole);
+	}
+
+	public void setListEntryRole(String value)
+	{
+		this.listEntryRole = StringPool.getInstance().getOrAddToCache(value, ListEntryContactsImplFinder.isFullCache());
+	}
+
+	public void setListEntryRoleNull()
+	{
+		this.setListEntryRole(null);
+	}
+
+	public byte[] getListId()
+	{
+		return this.listId;
+	}
+
+	public void setListId(byte[] value)
+	{
+		this.listId = value;
+	}
+
+	public void setListIdNull()
+	{
+		this.setListId(null);
+	}
+
+	public int getQuantity()
+	{
+		return this.quantity;
+	}
+
+	public void setQuantity(int value)
+	{
+		this.quantity = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setQuantityNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ListEntryContactsImplData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.emplId = this.emplId;
+		copy.listEntryRole = this.listEntryRole;
+		copy.listId = this.listId;
+		copy.quantity = this.quantity;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.emplId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ListEntryContactsImplFinder.isFullCache());
+		this.listEntryRole = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ListEntryContactsImplFinder.isFullCache());
+		int _listIdLength = in.readInt(); if (_listIdLength == -1) listId = null; else 
+		{
+			listId = new byte[_listIdLength];in.readFully(listId);
+		}
+
+		;
+		this.quantity = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ListEntryContactsImplData otherData = (ListEntryContactsImplData) other;
+		if (!isEmplIdNull() ? !getEmplId().equals(otherData.getEmplId()) : !otherData.isEmplIdNull())
+		{
+			return false;
+		}
+
+		if (!isListEntryRoleNull() ? !getListEntryRole().equals(otherData.getListEntryRole()) : !otherData.isListEntryRoleNull())
+		{
+			return false;
+		}
+
+		if (!isListIdNull() ? !Arrays.equals(getListId(), otherData.getListId()) : !otherData.isListIdNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.emplId);
+		out.writeObject(this.listEntryRole);
+		if (listId == null) out.writeInt(-1); else 
+		{
+			out.writeInt(listId.length); out.write(listId); 
+		}
+
+		;
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.emplId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ListEntryContactsImplFinder.isFullCache());
+		this.listEntryRole = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ListEntryContactsImplFinder.isFullCache());
+		int _listIdLength = in.readInt(); if (_listIdLength == -1) listId = null; else 
+		{
+			listId = new byte[_listIdLength];in.readFully(listId);
+		}
+
+		;
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getWallCrossImpl()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setWallCrossImpl(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ListEntryContactsImplData listEntryContactsImplData = (ListEntryContactsImplData) newData;
+		this.setQuantity(listEntryContactsImplData.getQuantity());
+		if (listEntryContactsImplData.isQuantityNull()) this.setQuantityNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ListEntryContactsImplData other = (ListEntryContactsImplData) newData;
+		if ( isQuantityNull() != other.isQuantityNull() || getQuantity() != other.getQuantity())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ListEntryContactsImplData copy = new ListEntryContactsImplData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ListEntryContactsImplData copy = new ListEntryContactsImplData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "emplId: "+"'"+getEmplId()+"'"+ " / ";
+		result += "listEntryRole: "+"'"+getListEntryRole()+"'"+ " / ";
+		result += "listId: "+(""+getListId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ListEntryContactsImplData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ListEntryContactsImplFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ListEntryContactsImplFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ListEntryContactsImplData";
+	}
+}
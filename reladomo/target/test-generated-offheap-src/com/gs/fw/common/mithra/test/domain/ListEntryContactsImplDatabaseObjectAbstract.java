@@ -0,0 +1,449 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ListEntryContactsImplDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "QUANT";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.QUANT";
+	private static final String PK_WITH_ALIAS = "t0.LIST_ID = ? AND t0.EMPLID = ? AND t0.LIST_ENTRY_ROLE = ?";
+	private static final String PK_INDEX_COLS = "LIST_ID,EMPLID,LIST_ENTRY_ROLE";
+	protected ListEntryContactsImplDatabaseObjectAbstract()
+	{
+		super("ListEntryContactsImpl", "com.gs.fw.common.mithra.test.domain.ListEntryContactsImplFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ListEntryContactsImplFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ListEntryContactsImplFinder.getFinderInstance();
+	}
+
+	public static ListEntryContactsImplData allocateOnHeapData()
+	{
+		return new ListEntryContactsImplData();
+	}
+
+	public static ListEntryContactsImplData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ListEntryContactsImplData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ListEntryContactsImplData data = new ListEntryContactsImplData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(ListEntryContactsImplFinder.getPrimaryKeyAttributes(), this, ListEntryContactsImplFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(ListEntryContactsImplFinder.getPrimaryKeyAttributes(), this, ListEntryContactsImplFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(ListEntryContactsImplFinder.getPrimaryKeyAttributes(), this, ListEntryContactsImplFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(ListEntryContactsImplFinder.getPrimaryKeyAttributes(), this, ListEntryContactsImplFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ListEntryContactsImplFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ListEntryContactsImplFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ListEntryContactsImpl.zConfigFullTx();
+		}
+		else
+		{
+			ListEntryContactsImpl.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateListEntryContactsImplData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkListEntryContactsImplData(1, (ListEntryContactsImplData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateListEntryContactsImplPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getListEntryContactsImplTableName();
+	}
+
+	public String getListEntryContactsImplTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ListEntryContactsImplData data = (ListEntryContactsImplData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setBytes(pos++, data.getListId());
+		stm.setString(pos++, data.getEmplId());
+		stm.setString(pos++, data.getListEntryRole());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "LIST_ID = ? AND EMPLID = ? AND LIST_ENTRY_ROLE = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.LIST_ID,t0.EMPLID,t0.LIST_ENTRY_ROLE,t0.QUANT";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("LIST_ID");
+		result.append(",").append(databaseAlias).append(".").append("EMPLID");
+		result.append(",").append(databaseAlias).append(".").append("LIST_ENTRY_ROLE");
+		result.append(",").append(databaseAlias).append(".").append("QUANT");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ListEntryContactsImplData inflateListEntryContactsImplData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ListEntryContactsImplData data = inflateListEntryContactsImplPkData(rs, dt);
+		inflateNonPkListEntryContactsImplData(4, data, rs, dt);
+		return data;
+	}
+
+	public ListEntryContactsImplData inflateListEntryContactsImplPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ListEntryContactsImplData _data = new ListEntryContactsImplData();
+		int _pos = 1;
+		_data.setListId(_rs.getBytes(_pos++));
+		checkNullPrimitive(_rs, _data, "listId");
+		_data.setEmplId(trimString(_rs.getString(_pos++)));
+		_data.setListEntryRole(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkListEntryContactsImplData(int _pos, ListEntryContactsImplData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ListEntryContactsImplData _data = _datax;
+			_data.setQuantity(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setQuantityNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "LIST_ENTRY_CONTACTS";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ListEntryContactsImplData data = (ListEntryContactsImplData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isListIdNull())
+		{
+			throwNullAttribute("listId");
+		}
+
+		stm.setBytes(pos++, data.getListId());
+		if(data.isEmplIdNull())
+		{
+			throwNullAttribute("emplId");
+		}
+
+		stm.setString(pos++, data.getEmplId());
+		if(data.isListEntryRoleNull())
+		{
+			throwNullAttribute("listEntryRole");
+		}
+
+		stm.setString(pos++, data.getListEntryRole());
+		if (data.isQuantityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getQuantity());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "LIST_ID,EMPLID,LIST_ENTRY_ROLE,QUANT";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ListEntryContactsImpl newObject = new ListEntryContactsImpl();
+		newObject.zSetFromListEntryContactsImplData((ListEntryContactsImplData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.LIST_ID,t0.EMPLID,t0.LIST_ENTRY_ROLE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("LIST_ID");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("EMPLID");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("LIST_ENTRY_ROLE");
+		return result.toString();
+	}
+}
@@ -0,0 +1,724 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ListEntryContactsImplFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ListEntryContactsImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ListEntryContactsImpl";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ListEntryContactsImpl");
+	private static final ListEntryContactsImplSingleFinder<ListEntryContactsImpl, Object, ListEntryContactsImpl> finder = new ListEntryContactsImplSingleFinder<ListEntryContactsImpl, Object, ListEntryContactsImpl>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ListEntryContactsImplFinder.ListEntryContactsImplRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("listId");
+		finderMethodMap.addNormalAttributeName("emplId");
+		finderMethodMap.addNormalAttributeName("listEntryRole");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addRelationshipName("WallCrossImpl");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ListEntryContactsImpl findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ListEntryContactsImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ListEntryContactsImplList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ListEntryContactsImplList) finder.findMany(operation);
+	}
+
+	public static ListEntryContactsImplList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ListEntryContactsImplList) finder.findManyBypassCache(operation);
+	}
+
+	private static ListEntryContactsImpl findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ListEntryContactsImpl) FinderUtils.findOne(found);
+	}
+
+	public static ListEntryContactsImpl findByPrimaryKey(byte[] listId, String emplId, String listEntryRole)
+	{
+		return finder.findByPrimaryKey(listId, emplId, listEntryRole);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ListEntryContactsImplData _castedTargetData = (ListEntryContactsImplData) _targetData;
+			if (Arrays.equals(_bean.getO1AsByteArray(), _castedTargetData.getListId()) && _bean.getO2AsString().equals(_castedTargetData.getEmplId()) && _bean.getO3AsString().equals(_castedTargetData.getListEntryRole()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsByteArray()),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsByteArray()),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.offHeapHash(_bean.getO3AsString()));
+		}
+	}
+
+	public static ListEntryContactsImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ListEntryContactsImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ListEntryContactsImplRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ListEntryContactsImpl, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private ByteArrayAttribute<ParentOwnerType> listId;
+		private StringAttribute<ParentOwnerType> emplId;
+		private StringAttribute<ParentOwnerType> listEntryRole;
+		private IntegerAttribute<ParentOwnerType> quantity;
+		private ListEntryContactsImplWallCrossImplFinderSubclass<ParentOwnerType> WallCrossImpl;
+		public ListEntryContactsImplRelatedFinder()
+		{
+			super();
+		}
+
+		public ListEntryContactsImplRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ListEntryContactsImplFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ListEntryContactsImplFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ListEntryContactsImplFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ListEntryContactsImplFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.listId();
+			attributes[1] = this.emplId();
+			attributes[2] = this.listEntryRole();
+			attributes[3] = this.quantity();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.WallCrossImpl());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ListEntryContactsImpl findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ListEntryContactsImplFinder.findOne(operation, false);
+		}
+
+		public ListEntryContactsImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ListEntryContactsImplFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ListEntryContactsImpl> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ListEntryContactsImplList((Operation) operation);
+		}
+
+		public MithraList<? extends ListEntryContactsImpl> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ListEntryContactsImplList result = (ListEntryContactsImplList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ListEntryContactsImpl> constructEmptyList()
+		{
+			return new ListEntryContactsImplList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -32652720;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public ByteArrayAttribute<ParentOwnerType> listId()
+		{
+			ByteArrayAttribute<ParentOwnerType> result = this.listId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteArrayAttribute.generate("LIST_ID","","listId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,12, false) :
+					new MappedByteArrayAttribute(ListEntryContactsImplFinder.listId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("WallCrossImpl");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "WallCrossImpl", "listEntryContacts");
+				this.listId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> emplId()
+		{
+			StringAttribute<ParentOwnerType> result = this.emplId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("EMPLID","","emplId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,11,true, false) :
+					new MappedStringAttribute(ListEntryContactsImplFinder.emplId(), this.mapper, this.zGetValueSelector());
+				this.emplId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> listEntryRole()
+		{
+			StringAttribute<ParentOwnerType> result = this.listEntryRole;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LIST_ENTRY_ROLE","","listEntryRole",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,8,true, false) :
+					new MappedStringAttribute(ListEntryContactsImplFinder.listEntryRole(), this.mapper, this.zGetValueSelector());
+				this.listEntryRole = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> quantity()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("QUANT","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ListEntryContactsImplFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public WallCrossImplFinder.WallCrossImplSingleFinderForRelatedClasses<ParentOwnerType, WallCrossImpl, ListEntryContactsImpl> WallCrossImpl()
+		{
+			ListEntryContactsImplWallCrossImplFinderSubclass<ParentOwnerType> result = this.WallCrossImpl;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(WallCrossImplFinder.zGetWallCrossImplListEntryContactsMapper());
+				newMapper.setToMany(false);
+				result = new ListEntryContactsImplWallCrossImplFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.WallCrossImpl = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ListEntryContactsImplFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ListEntryContactsImplFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ListEntryContactsImplCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ListEntryContactsImplRelatedFinder<ParentOwnerType, ReturnType, ListEntryContactsImplList, OwnerType>
+	{
+		public ListEntryContactsImplCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ListEntryContactsImplCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ListEntryContactsImplCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ListEntryContactsImplCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ListEntryContactsImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ListEntryContactsImplRelatedFinder<ParentOwnerType, ReturnType, ListEntryContactsImplList, OwnerType>
+	implements ToOneFinder
+	{
+		public ListEntryContactsImplSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ListEntryContactsImplSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ListEntryContactsImpl other)
+		{
+			return this.listId().eq(other.getListId())
+			.and(this.emplId().eq(other.getEmplId()))
+			.and(this.listEntryRole().eq(other.getListEntryRole()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ListEntryContactsImpl findByPrimaryKey(byte[] listId, String emplId, String listEntryRole)
+		{
+			ListEntryContactsImpl _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (listId != null && emplId != null && listEntryRole != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(listId);
+				_bean.setO2(emplId);
+				_bean.setO3(listEntryRole);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ListEntryContactsImpl) _related;
+			if (_related == null)
+			{
+				_op = this.listId().eq(listId).and(this.emplId().eq(emplId)).and(this.listEntryRole().eq(listEntryRole));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ListEntryContactsImplSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ListEntryContactsImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ListEntryContactsImplSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to LIST_ENTRY_CONTACTS.LIST_ID **/
+	public static ByteArrayAttribute<ListEntryContactsImpl> listId()
+	{
+		return finder.listId();
+	}
+
+	/** maps to LIST_ENTRY_CONTACTS.EMPLID **/
+	public static StringAttribute<ListEntryContactsImpl> emplId()
+	{
+		return finder.emplId();
+	}
+
+	/** maps to LIST_ENTRY_CONTACTS.LIST_ENTRY_ROLE **/
+	public static StringAttribute<ListEntryContactsImpl> listEntryRole()
+	{
+		return finder.listEntryRole();
+	}
+
+	/** maps to LIST_ENTRY_CONTACTS.QUANT **/
+	public static IntegerAttribute<ListEntryContactsImpl> quantity()
+	{
+		return finder.quantity();
+	}
+
+	public static WallCrossImplFinder.WallCrossImplSingleFinderForRelatedClasses<ListEntryContactsImpl, WallCrossImpl, ListEntryContactsImpl> WallCrossImpl()
+	{
+		return finder.WallCrossImpl();
+	}
+
+	public static class ListEntryContactsImplWallCrossImplFinderSubclass<ParentOwnerType> extends WallCrossImplFinder.WallCrossImplSingleFinderForRelatedClasses<ParentOwnerType, WallCrossImpl, ListEntryContactsImpl>
+	{
+		public ListEntryContactsImplWallCrossImplFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "WallCrossImpl";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ListEntryContactsImplWallCrossImplFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected WallCrossImpl plainValueOf(ListEntryContactsImpl _obj)
+		{
+			return _obj.getWallCrossImpl();
+		}
+
+		protected WallCrossImplList plainListValueOf(Object _obj)
+		{
+			return ((ListEntryContactsImplList)_obj).getWallCrossImpls();
+		}
+	}
+
+	public static Operation eq(ListEntryContactsImpl other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(listId());
+	}
+
+	public static ListEntryContactsImplSingleFinder<ListEntryContactsImpl, Object, ListEntryContactsImpl> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			listId()
+			, emplId()
+			, listEntryRole()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			listId()
+			, listId()
+			, emplId()
+			, listEntryRole()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			listId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			WallCrossImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			WallCrossImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ListEntryContactsImpl");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
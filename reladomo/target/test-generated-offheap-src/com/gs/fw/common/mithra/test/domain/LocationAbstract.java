@@ -0,0 +1,332 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class LocationAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String city;
+	private String country;
+	private String geographicLocation;
+	private int groupId;
+	private int id;
+	private int sourceId;
+	public boolean isCityNull()
+	{
+		return this.getCity() == null;
+	}
+
+	public boolean isCountryNull()
+	{
+		return this.getCountry() == null;
+	}
+
+	public boolean isGeographicLocationNull()
+	{
+		return this.getGeographicLocation() == null;
+	}
+
+	public boolean isGroupIdNull()
+	{
+		return false;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.city);
+		out.writeObject(this.country);
+		out.writeObject(this.geographicLocation);
+		out.writeInt(this.groupId);
+		out.writeInt(this.id);
+		out.writeInt(this.sourceId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		LocationData data = new LocationData();
+		data.setCity(city);
+		data.setCountry(country);
+		data.setGeographicLocation(geographicLocation);
+		data.setGroupId(groupId);
+		data.setId(id);
+		data.setSourceId(sourceId);
+		return data;
+	}
+
+	public Location getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		LocationAbstract copy = (LocationAbstract) LocationFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Location)copy;
+	}
+
+	protected void zSetFromLocationData(LocationData data)
+	{
+		this.setFromLocationData(data);
+	}
+
+	public void setFromLocationData(LocationData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		city = data.getCity();
+		country = data.getCountry();
+		geographicLocation = data.getGeographicLocation();
+		groupId = data.getGroupId();
+		id = data.getId();
+		sourceId = data.getSourceId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return LocationFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromLocationData((LocationData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getCity()
+	{
+		return this.city;
+	}
+
+	public void setCity(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.city = StringPool.getInstance().getOrAddToCache(value, LocationFinder.isFullCache());
+	}
+
+	public String getCountry()
+	{
+		return this.country;
+	}
+
+	public void setCountry(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.country = StringPool.getInstance().getOrAddToCache(value, LocationFinder.isFullCache());
+	}
+
+	public String getGeographicLocation()
+	{
+		return this.geographicLocation;
+	}
+
+	public void setGeographicLocation(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.geographicLocation = StringPool.getInstance().getOrAddToCache(value, LocationFinder.isFullCache());
+	}
+
+	public int getGroupId()
+	{
+		return this.groupId;
+	}
+
+	public void setGroupId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.groupId = value;
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public int getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public void setSourceId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.sourceId = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final LocationData locationData = (LocationData) newData;
+		if (!isCityNull() ? !getCity().equals(locationData.getCity()) : !locationData.isCityNull())
+		{
+			return true;
+		}
+
+		if (!isCountryNull() ? !getCountry().equals(locationData.getCountry()) : !locationData.isCountryNull())
+		{
+			return true;
+		}
+
+		if (sourceId != locationData.getSourceId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "geographicLocation: "+"'"+getGeographicLocation()+"'"+ " / ";
+		result += "groupId: "+(""+getGroupId())+ " / ";
+		result += "id: "+(""+getId())+ " / ";
+		result += "sourceId: "+(""+getSourceId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeObject(this.geographicLocation);
+			out.writeInt(this.groupId);
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.city = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LocationFinder.isFullCache());
+			this.country = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LocationFinder.isFullCache());
+			this.geographicLocation = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LocationFinder.isFullCache());
+			this.groupId = in.readInt();
+			this.id = in.readInt();
+			this.sourceId = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.geographicLocation = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LocationFinder.isFullCache());
+			this.groupId = in.readInt();
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = LocationFinder.id().eq(this.getId());
+			op = op.and(LocationFinder.groupId().eq(this.getGroupId()));
+			op = op.and(LocationFinder.geographicLocation().eq(this.getGeographicLocation()));
+			return LocationFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
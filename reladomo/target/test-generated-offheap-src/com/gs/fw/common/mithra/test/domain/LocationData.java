@@ -0,0 +1,408 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class LocationData
+implements MithraDataObject
+{
+	private String city;
+	private String country;
+	private String geographicLocation;
+	private int groupId;
+	private int id;
+	private int sourceId;
+	public boolean isCityNull()
+	{
+		return this.getCity() == null;
+	}
+
+	public boolean isCountryNull()
+	{
+		return this.getCountry() == null;
+	}
+
+	public boolean isGeographicLocationNull()
+	{
+		return this.getGeographicLocation() == null;
+	}
+
+	public boolean isGroupIdNull()
+	{
+		return false;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.city);
+		out.writeObject(this.country);
+		out.writeObject(this.geographicLocation);
+		out.writeInt(this.groupId);
+		out.writeInt(this.id);
+		out.writeInt(this.sourceId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getCity()
+	{
+		return this.city;
+	}
+
+	public int zGetCityAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(city);
+	}
+
+	public void setCity(String value)
+	{
+		this.city = StringPool.getInstance().getOrAddToCache(value, LocationFinder.isFullCache());
+	}
+
+	public void setCityNull()
+	{
+		this.setCity(null);
+	}
+
+	public String getCountry()
+	{
+		return this.country;
+	}
+
+	public int zGetCountryAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(country);
+	}
+
+	public void setCountry(String value)
+	{
+		this.country = StringPool.getInstance().getOrAddToCache(value, LocationFinder.isFullCache());
+	}
+
+	public void setCountryNull()
+	{
+		this.setCountry(null);
+	}
+
+	public String getGeographicLocation()
+	{
+		return this.geographicLocation;
+	}
+
+	public int zGetGeographicLocationAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(geographicLocation);
+	}
+
+	public void setGeographicLocation(String value)
+	{
+		this.geographicLocation = StringPool.getInstance().getOrAddToCache(value, LocationFinder.isFullCache());
+	}
+
+	public void setGeographicLocationNull()
+	{
+		this.setGeographicLocation(null);
+	}
+
+	public int getGroupId()
+	{
+		return this.groupId;
+	}
+
+	public void setGroupId(int value)
+	{
+		this.groupId = value;
+	}
+
+	public void setGroupIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public void setSourceId(int value)
+	{
+		this.sourceId = value;
+	}
+
+	public void setSourceIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(LocationData copy, boolean withRelationships)
+	{
+		copy.city = this.city;
+		copy.country = this.country;
+		copy.geographicLocation = this.geographicLocation;
+		copy.groupId = this.groupId;
+		copy.id = this.id;
+		copy.sourceId = this.sourceId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.city = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LocationFinder.isFullCache());
+		this.country = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LocationFinder.isFullCache());
+		this.geographicLocation = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LocationFinder.isFullCache());
+		this.groupId = in.readInt();
+		this.id = in.readInt();
+		this.sourceId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final LocationData otherData = (LocationData) other;
+		if (!isGeographicLocationNull() ? !getGeographicLocation().equals(otherData.getGeographicLocation()) : !otherData.isGeographicLocationNull())
+		{
+			return false;
+		}
+
+		if (getGroupId() != otherData.getGroupId())
+		{
+			return false;
+		}
+
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		if (getSourceId() != otherData.getSourceId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.geographicLocation);
+		out.writeInt(this.groupId);
+		out.writeInt(this.id);
+		out.writeInt(this.sourceId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.geographicLocation = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LocationFinder.isFullCache());
+		this.groupId = in.readInt();
+		this.id = in.readInt();
+		this.sourceId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final LocationData locationData = (LocationData) newData;
+		this.setCity(locationData.getCity());
+		this.setCountry(locationData.getCountry());
+		this.setSourceId(locationData.getSourceId());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final LocationData other = (LocationData) newData;
+		if (!isCityNull() ? !getCity().equals(other.getCity()) : !other.isCityNull())
+		{
+			return true;
+		}
+
+		if (!isCountryNull() ? !getCountry().equals(other.getCountry()) : !other.isCountryNull())
+		{
+			return true;
+		}
+
+		if ( getSourceId() != other.getSourceId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		LocationData copy = new LocationData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		LocationData copy = new LocationData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "geographicLocation: "+"'"+getGeographicLocation()+"'"+ " / ";
+		result += "groupId: "+(""+getGroupId())+ " / ";
+		result += "id: "+(""+getId())+ " / ";
+		result += "sourceId: "+(""+getSourceId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.LocationData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return LocationFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return LocationFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.LocationData";
+	}
+}
@@ -0,0 +1,350 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ManufacturerAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private int locationId;
+	private int manufacturerId;
+	private String name;
+	public boolean isManufacturerIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isLocationIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.locationId);
+		out.writeInt(this.manufacturerId);
+		out.writeObject(this.name);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ManufacturerData data = new ManufacturerData();
+		data.setLocationId(locationId);
+		data.setManufacturerId(manufacturerId);
+		data.setName(name);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public Manufacturer getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ManufacturerAbstract copy = (ManufacturerAbstract) ManufacturerFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Manufacturer)copy;
+	}
+
+	protected void zSetFromManufacturerData(ManufacturerData data)
+	{
+		this.setFromManufacturerData(data);
+	}
+
+	public void setFromManufacturerData(ManufacturerData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		locationId = data.getLocationId();
+		manufacturerId = data.getManufacturerId();
+		name = data.getName();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ManufacturerFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromManufacturerData((ManufacturerData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public int getLocationId()
+	{
+		if (isLocationIdNull()) throwNullPrimitiveException("locationId");
+		return this.locationId;
+	}
+
+	public void setLocationId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.locationId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getManufacturerId()
+	{
+		return this.manufacturerId;
+	}
+
+	public void setManufacturerId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.manufacturerId = value;
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, ManufacturerFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setLocationIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Location.id = this.locationId and Location.sourceId = 0</pre>
+	* @return The location
+	*/
+	public Location getLocation()
+	{
+		Location _result = null;
+		if (_relationships != null)
+		{
+			_result = (Location)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isLocationIdNull())
+			{
+				{
+					_result = LocationFinder.zFindOneForRelationship(zGetLocationOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	public void setLocation(Location location)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = location;
+		if (location == null)
+		{
+			this.setLocationIdNull();
+		}
+		else
+		{
+			this.setLocationId(location.getId());
+		}
+	}
+
+	public Operation zGetLocationOperation()
+	{
+		ManufacturerAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(ManufacturerFinder.location().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ManufacturerData manufacturerData = (ManufacturerData) newData;
+		if (isNullBits0 != manufacturerData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (locationId != manufacturerData.getLocationId())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(manufacturerData.getName()) : !manufacturerData.isNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "manufacturerId: "+(""+getManufacturerId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.manufacturerId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.locationId = in.readInt();
+			this.manufacturerId = in.readInt();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ManufacturerFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.manufacturerId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ManufacturerFinder.manufacturerId().eq(this.getManufacturerId());
+			return ManufacturerFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
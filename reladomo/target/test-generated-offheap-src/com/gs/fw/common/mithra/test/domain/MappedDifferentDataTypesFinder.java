@@ -0,0 +1,841 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class MappedDifferentDataTypesFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/MappedDifferentDataTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.MappedDifferentDataTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.MappedDifferentDataTypes");
+	private static final MappedDifferentDataTypesSingleFinder<MappedDifferentDataTypes, Object, MappedDifferentDataTypes> finder = new MappedDifferentDataTypesSingleFinder<MappedDifferentDataTypes, Object, MappedDifferentDataTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(MappedDifferentDataTypesFinder.MappedDifferentDataTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addRelationshipName("datatypes");
+		finderMethodMap.addRelationshipName("byteArrayObj");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = MappedDifferentDataTypesFinder.id().constructEqualityMapper(DifferentDataTypesFinder.id());
+			result[1] = DifferentDataTypesFinder.id().constructEqualityMapper(MappedDifferentDataTypesFinder.id());
+			result[2] = MappedDifferentDataTypesFinder.id().constructEqualityMapper(TestBinaryArrayFinder.testBinaryArrayId());
+			result[3] = TestBinaryArrayFinder.testBinaryArrayId().constructEqualityMapper(MappedDifferentDataTypesFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static MappedDifferentDataTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static MappedDifferentDataTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static MappedDifferentDataTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (MappedDifferentDataTypesList) finder.findMany(operation);
+	}
+
+	public static MappedDifferentDataTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (MappedDifferentDataTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static MappedDifferentDataTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (MappedDifferentDataTypes) FinderUtils.findOne(found);
+	}
+
+	public static MappedDifferentDataTypes findByPrimaryKey(int id, String name)
+	{
+		return finder.findByPrimaryKey(id, name);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			MappedDifferentDataTypesData _castedTargetData = (MappedDifferentDataTypesData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId() && _bean.getO1AsString().equals(_castedTargetData.getName()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static MappedDifferentDataTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (MappedDifferentDataTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class MappedDifferentDataTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<MappedDifferentDataTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private MappedDifferentDataTypesDatatypesFinderSubclass<ParentOwnerType> datatypes;
+		private MappedDifferentDataTypesByteArrayObjFinderSubclass<ParentOwnerType> byteArrayObj;
+		public MappedDifferentDataTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public MappedDifferentDataTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.MappedDifferentDataTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return MappedDifferentDataTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return MappedDifferentDataTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return MappedDifferentDataTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.id();
+			attributes[1] = this.name();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.datatypes());
+				relatedFinders.add(this.byteArrayObj());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public MappedDifferentDataTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return MappedDifferentDataTypesFinder.findOne(operation, false);
+		}
+
+		public MappedDifferentDataTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return MappedDifferentDataTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends MappedDifferentDataTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new MappedDifferentDataTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends MappedDifferentDataTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			MappedDifferentDataTypesList result = (MappedDifferentDataTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends MappedDifferentDataTypes> constructEmptyList()
+		{
+			return new MappedDifferentDataTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 981294432;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(MappedDifferentDataTypesFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(MappedDifferentDataTypesFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesSingleFinderForRelatedClasses<ParentOwnerType, DifferentDataTypes, MappedDifferentDataTypes> datatypes()
+		{
+			MappedDifferentDataTypesDatatypesFinderSubclass<ParentOwnerType> result = this.datatypes;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(MappedDifferentDataTypesFinder.zGetMappedDifferentDataTypesDatatypesReverseMapper());
+				newMapper.setToMany(false);
+				result = new MappedDifferentDataTypesDatatypesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypes = result;
+			}
+
+			return result;
+		}
+
+		public TestBinaryArrayFinder.TestBinaryArraySingleFinderForRelatedClasses<ParentOwnerType, TestBinaryArray, MappedDifferentDataTypes> byteArrayObj()
+		{
+			MappedDifferentDataTypesByteArrayObjFinderSubclass<ParentOwnerType> result = this.byteArrayObj;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(MappedDifferentDataTypesFinder.zGetMappedDifferentDataTypesByteArrayObjReverseMapper());
+				newMapper.setToMany(false);
+				result = new MappedDifferentDataTypesByteArrayObjFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.byteArrayObj = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return MappedDifferentDataTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return MappedDifferentDataTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class MappedDifferentDataTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends MappedDifferentDataTypesRelatedFinder<ParentOwnerType, ReturnType, MappedDifferentDataTypesList, OwnerType>
+	{
+		public MappedDifferentDataTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class MappedDifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends MappedDifferentDataTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public MappedDifferentDataTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class MappedDifferentDataTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends MappedDifferentDataTypesRelatedFinder<ParentOwnerType, ReturnType, MappedDifferentDataTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public MappedDifferentDataTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public MappedDifferentDataTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(MappedDifferentDataTypes other)
+		{
+			return this.id().eq(other.getId())
+			.and(this.name().eq(other.getName()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public MappedDifferentDataTypes findByPrimaryKey(int id, String name)
+		{
+			MappedDifferentDataTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (name != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				_bean.setO1(name);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (MappedDifferentDataTypes) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.name().eq(name));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class MappedDifferentDataTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends MappedDifferentDataTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public MappedDifferentDataTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper datatypesReverseMapper = null;
+	public static Mapper zGetMappedDifferentDataTypesDatatypesReverseMapper()
+	{
+		if (datatypesReverseMapper == null)
+		{
+			datatypesReverseMapper = zConstructMappedDifferentDataTypesDatatypesReverseMapper();
+		}
+
+		return datatypesReverseMapper;
+	}
+
+	private static Mapper datatypesMapper = null;
+	public static Mapper zGetMappedDifferentDataTypesDatatypesMapper()
+	{
+		if (datatypesMapper == null)
+		{
+			datatypesMapper = zConstructMappedDifferentDataTypesDatatypesMapper();
+		}
+
+		return datatypesMapper;
+	}
+
+	private static Mapper datatypesPureReverseMapper = null;
+	public static Mapper zGetMappedDifferentDataTypesDatatypesPureReverseMapper()
+	{
+		if (datatypesPureReverseMapper == null)
+		{
+			datatypesPureReverseMapper = zConstructMappedDifferentDataTypesDatatypesPureReverseMapper();
+		}
+
+		return datatypesPureReverseMapper;
+	}
+
+	private static Mapper zConstructMappedDifferentDataTypesDatatypesPureReverseMapper()
+	{
+		Mapper datatypesMapper = MappedDifferentDataTypesFinder.zGetConstantJoin(0);
+		datatypesMapper.setName("datatypes");
+		return datatypesMapper;
+	}
+
+	private static Mapper zConstructMappedDifferentDataTypesDatatypesReverseMapper()
+	{
+		Mapper datatypesMapper = MappedDifferentDataTypesFinder.zGetConstantJoin(0);
+		datatypesMapper.setName("datatypes");
+		return datatypesMapper;
+	}
+
+	private static Mapper zConstructMappedDifferentDataTypesDatatypesMapper()
+	{
+		Mapper datatypesMapper = MappedDifferentDataTypesFinder.zGetConstantJoin(1);
+		datatypesMapper.setName("mappedName");
+		return datatypesMapper;
+	}
+
+	private static Mapper byteArrayObjReverseMapper = null;
+	public static Mapper zGetMappedDifferentDataTypesByteArrayObjReverseMapper()
+	{
+		if (byteArrayObjReverseMapper == null)
+		{
+			byteArrayObjReverseMapper = zConstructMappedDifferentDataTypesByteArrayObjReverseMapper();
+		}
+
+		return byteArrayObjReverseMapper;
+	}
+
+	private static Mapper byteArrayObjMapper = null;
+	public static Mapper zGetMappedDifferentDataTypesByteArrayObjMapper()
+	{
+		if (byteArrayObjMapper == null)
+		{
+			byteArrayObjMapper = zConstructMappedDifferentDataTypesByteArrayObjMapper();
+		}
+
+		return byteArrayObjMapper;
+	}
+
+	private static Mapper byteArrayObjPureReverseMapper = null;
+	public static Mapper zGetMappedDifferentDataTypesByteArrayObjPureReverseMapper()
+	{
+		if (byteArrayObjPureReverseMapper == null)
+		{
+			byteArrayObjPureReverseMapper = zConstructMappedDifferentDataTypesByteArrayObjPureReverseMapper();
+		}
+
+		return byteArrayObjPureReverseMapper;
+	}
+
+	private static Mapper zConstructMappedDifferentDataTypesByteArrayObjPureReverseMapper()
+	{
+		Mapper byteArrayObjMapper = MappedDifferentDataTypesFinder.zGetConstantJoin(2);
+		byteArrayObjMapper.setName("byteArrayObj");
+		return byteArrayObjMapper;
+	}
+
+	private static Mapper zConstructMappedDifferentDataTypesByteArrayObjReverseMapper()
+	{
+		Mapper byteArrayObjMapper = MappedDifferentDataTypesFinder.zGetConstantJoin(2);
+		byteArrayObjMapper.setName("byteArrayObj");
+		return byteArrayObjMapper;
+	}
+
+	private static Mapper zConstructMappedDifferentDataTypesByteArrayObjMapper()
+	{
+		Mapper byteArrayObjMapper = MappedDifferentDataTypesFinder.zGetConstantJoin(3);
+		byteArrayObjMapper.setName("byteArrayObj_Reverse");
+		return byteArrayObjMapper;
+	}
+
+	/** maps to MAPPED_DIFFERENT_DATA_TYPES.ID **/
+	public static IntegerAttribute<MappedDifferentDataTypes> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to MAPPED_DIFFERENT_DATA_TYPES."NAME" **/
+	public static StringAttribute<MappedDifferentDataTypes> name()
+	{
+		return finder.name();
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesSingleFinderForRelatedClasses<MappedDifferentDataTypes, DifferentDataTypes, MappedDifferentDataTypes> datatypes()
+	{
+		return finder.datatypes();
+	}
+
+	public static class MappedDifferentDataTypesDatatypesFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesSingleFinderForRelatedClasses<ParentOwnerType, DifferentDataTypes, MappedDifferentDataTypes>
+	{
+		public MappedDifferentDataTypesDatatypesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "datatypes";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new MappedDifferentDataTypesDatatypesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypes plainValueOf(MappedDifferentDataTypes _obj)
+		{
+			return _obj.getDatatypes();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((MappedDifferentDataTypesList)_obj).getDatatypes();
+		}
+	}
+
+	public static TestBinaryArrayFinder.TestBinaryArraySingleFinderForRelatedClasses<MappedDifferentDataTypes, TestBinaryArray, MappedDifferentDataTypes> byteArrayObj()
+	{
+		return finder.byteArrayObj();
+	}
+
+	public static class MappedDifferentDataTypesByteArrayObjFinderSubclass<ParentOwnerType> extends TestBinaryArrayFinder.TestBinaryArraySingleFinderForRelatedClasses<ParentOwnerType, TestBinaryArray, MappedDifferentDataTypes>
+	{
+		public MappedDifferentDataTypesByteArrayObjFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "byteArrayObj";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new MappedDifferentDataTypesByteArrayObjFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestBinaryArray plainValueOf(MappedDifferentDataTypes _obj)
+		{
+			return _obj.getByteArrayObj();
+		}
+
+		protected TestBinaryArrayList plainListValueOf(Object _obj)
+		{
+			return ((MappedDifferentDataTypesList)_obj).getByteArrayObjs();
+		}
+	}
+
+	public static Operation eq(MappedDifferentDataTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static MappedDifferentDataTypesSingleFinder<MappedDifferentDataTypes, Object, MappedDifferentDataTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, name()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, name()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			id()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.MappedDifferentDataTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
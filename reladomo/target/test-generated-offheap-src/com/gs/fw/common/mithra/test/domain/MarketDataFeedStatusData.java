@@ -0,0 +1,380 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class MarketDataFeedStatusData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private int dataSourceId;
+	private Timestamp lastProcessTime;
+	private int physicalPartitionId;
+	private int priority;
+	private String processName;
+	public boolean isDataSourceIdNull()
+	{
+		return false;
+	}
+
+	public boolean isLastProcessTimeNull()
+	{
+		return this.getLastProcessTime() == null;
+	}
+
+	public boolean isPhysicalPartitionIdNull()
+	{
+		return false;
+	}
+
+	public boolean isProcessNameNull()
+	{
+		return this.getProcessName() == null;
+	}
+
+	public boolean isPriorityNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.dataSourceId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastProcessTime);
+		out.writeInt(this.physicalPartitionId);
+		out.writeInt(this.priority);
+		out.writeObject(this.processName);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public int getDataSourceId()
+	{
+		return this.dataSourceId;
+	}
+
+	public void setDataSourceId(int value)
+	{
+		this.dataSourceId = value;
+	}
+
+	public void setDataSourceIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Timestamp getLastProcessTime()
+	{
+		return this.lastProcessTime;
+	}
+
+	public long zGetLastProcessTimeAsLong()
+	{
+		if (lastProcessTime == null) return TimestampPool.OFF_HEAP_NULL;
+		return lastProcessTime.getTime();
+	}
+
+	public void setLastProcessTime(Timestamp value)
+	{
+		this.lastProcessTime = TimestampPool.getInstance().getOrAddToCache(value, MarketDataFeedStatusFinder.isFullCache(), MarketDataFeedStatusFinder.isOffHeap());
+	}
+
+	public void setLastProcessTimeNull()
+	{
+		this.setLastProcessTime(null);
+	}
+
+	public int getPhysicalPartitionId()
+	{
+		return this.physicalPartitionId;
+	}
+
+	public void setPhysicalPartitionId(int value)
+	{
+		this.physicalPartitionId = value;
+	}
+
+	public void setPhysicalPartitionIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getPriority()
+	{
+		return this.priority;
+	}
+
+	public void setPriority(int value)
+	{
+		this.priority = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getProcessName()
+	{
+		return this.processName;
+	}
+
+	public int zGetProcessNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(processName);
+	}
+
+	public void setProcessName(String value)
+	{
+		this.processName = StringPool.getInstance().getOrAddToCache(value, MarketDataFeedStatusFinder.isFullCache());
+	}
+
+	public void setProcessNameNull()
+	{
+		this.setProcessName(null);
+	}
+
+	public void setPriorityNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(MarketDataFeedStatusData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.dataSourceId = this.dataSourceId;
+		copy.lastProcessTime = this.lastProcessTime;
+		copy.physicalPartitionId = this.physicalPartitionId;
+		copy.priority = this.priority;
+		copy.processName = this.processName;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.dataSourceId = in.readInt();
+		this.lastProcessTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), MarketDataFeedStatusFinder.isFullCache(), MarketDataFeedStatusFinder.isOffHeap());
+		this.physicalPartitionId = in.readInt();
+		this.priority = in.readInt();
+		this.processName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), MarketDataFeedStatusFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final MarketDataFeedStatusData otherData = (MarketDataFeedStatusData) other;
+		if (getDataSourceId() != otherData.getDataSourceId())
+		{
+			return false;
+		}
+
+		if (getPhysicalPartitionId() != otherData.getPhysicalPartitionId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.dataSourceId);
+		out.writeInt(this.physicalPartitionId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.dataSourceId = in.readInt();
+		this.physicalPartitionId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final MarketDataFeedStatusData marketDataFeedStatusData = (MarketDataFeedStatusData) newData;
+		this.setLastProcessTime(marketDataFeedStatusData.getLastProcessTime());
+		this.setPriority(marketDataFeedStatusData.getPriority());
+		if (marketDataFeedStatusData.isPriorityNull()) this.setPriorityNull();
+		this.setProcessName(marketDataFeedStatusData.getProcessName());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final MarketDataFeedStatusData other = (MarketDataFeedStatusData) newData;
+		if (!isLastProcessTimeNull() ? !getLastProcessTime().equals(other.getLastProcessTime()) : !other.isLastProcessTimeNull())
+		{
+			return true;
+		}
+
+		if ( isPriorityNull() != other.isPriorityNull() || getPriority() != other.getPriority())
+		{
+			return true;
+		}
+
+		if (!isProcessNameNull() ? !getProcessName().equals(other.getProcessName()) : !other.isProcessNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		MarketDataFeedStatusData copy = new MarketDataFeedStatusData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		MarketDataFeedStatusData copy = new MarketDataFeedStatusData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "dataSourceId: "+(""+getDataSourceId())+ " / ";
+		result += "physicalPartitionId: "+(""+getPhysicalPartitionId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.MarketDataFeedStatusData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return MarketDataFeedStatusFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return MarketDataFeedStatusFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.MarketDataFeedStatusData";
+	}
+}
@@ -0,0 +1,453 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class MarketDataFeedStatusDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "LAST_PROCESS_TS,PRIORITY_I,PROCESS_NAME_C";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.LAST_PROCESS_TS,t0.PRIORITY_I,t0.PROCESS_NAME_C";
+	private static final String PK_WITH_ALIAS = "t0.DATA_SOURCE_ID_I = ? AND t0.PHYSICAL_PARTITION_ID_I = ?";
+	private static final String PK_INDEX_COLS = "DATA_SOURCE_ID_I,PHYSICAL_PARTITION_ID_I";
+	protected MarketDataFeedStatusDatabaseObjectAbstract()
+	{
+		super("MarketDataFeedStatus", "com.gs.fw.common.mithra.test.domain.MarketDataFeedStatusFinder",
+			5, 5,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return MarketDataFeedStatusFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return MarketDataFeedStatusFinder.getFinderInstance();
+	}
+
+	public static MarketDataFeedStatusData allocateOnHeapData()
+	{
+		return new MarketDataFeedStatusData();
+	}
+
+	public static MarketDataFeedStatusData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new MarketDataFeedStatusData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MarketDataFeedStatusData data = new MarketDataFeedStatusData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(MarketDataFeedStatusFinder.getPrimaryKeyAttributes(), this, MarketDataFeedStatusFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(MarketDataFeedStatusFinder.getPrimaryKeyAttributes(), this, MarketDataFeedStatusFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(MarketDataFeedStatusFinder.getPrimaryKeyAttributes(), this, MarketDataFeedStatusFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(MarketDataFeedStatusFinder.getPrimaryKeyAttributes(), this, MarketDataFeedStatusFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			MarketDataFeedStatusFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			MarketDataFeedStatusFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			MarketDataFeedStatus.zConfigFullTx();
+		}
+		else
+		{
+			MarketDataFeedStatus.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateMarketDataFeedStatusData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkMarketDataFeedStatusData(1, (MarketDataFeedStatusData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateMarketDataFeedStatusPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getMarketDataFeedStatusTableName();
+	}
+
+	public String getMarketDataFeedStatusTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		MarketDataFeedStatusData data = (MarketDataFeedStatusData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getDataSourceId());
+		stm.setInt(pos++, data.getPhysicalPartitionId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "DATA_SOURCE_ID_I = ? AND PHYSICAL_PARTITION_ID_I = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.DATA_SOURCE_ID_I,t0.PHYSICAL_PARTITION_ID_I,t0.LAST_PROCESS_TS,t0.PRIORITY_I,t0.PROCESS_NAME_C";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*5);
+		result.append(databaseAlias).append(".").append("DATA_SOURCE_ID_I");
+		result.append(",").append(databaseAlias).append(".").append("PHYSICAL_PARTITION_ID_I");
+		result.append(",").append(databaseAlias).append(".").append("LAST_PROCESS_TS");
+		result.append(",").append(databaseAlias).append(".").append("PRIORITY_I");
+		result.append(",").append(databaseAlias).append(".").append("PROCESS_NAME_C");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public MarketDataFeedStatusData inflateMarketDataFeedStatusData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		MarketDataFeedStatusData data = inflateMarketDataFeedStatusPkData(rs, dt);
+		inflateNonPkMarketDataFeedStatusData(3, data, rs, dt);
+		return data;
+	}
+
+	public MarketDataFeedStatusData inflateMarketDataFeedStatusPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		MarketDataFeedStatusData _data = new MarketDataFeedStatusData();
+		int _pos = 1;
+		_data.setDataSourceId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "dataSourceId");
+		_data.setPhysicalPartitionId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "physicalPartitionId");
+		return _data;
+	}
+
+	public void inflateNonPkMarketDataFeedStatusData(int _pos, MarketDataFeedStatusData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			MarketDataFeedStatusData _data = _datax;
+			Timestamp lastProcessTimetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setLastProcessTime(lastProcessTimetimestampValue);
+			_data.setPriority(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPriorityNull();
+			}
+
+			_data.setProcessName(trimString(_rs.getString(_pos++)));
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "C_MARKET_DATA_FEED_STATUS_TB";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		MarketDataFeedStatusData data = (MarketDataFeedStatusData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getDataSourceId());
+		stm.setInt(pos++, data.getPhysicalPartitionId());
+		if (data.isLastProcessTimeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getLastProcessTime(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isPriorityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getPriority());
+		}
+
+		if (data.isProcessNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProcessName());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "DATA_SOURCE_ID_I,PHYSICAL_PARTITION_ID_I,LAST_PROCESS_TS,PRIORITY_I,PROCESS_NAME_C";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		MarketDataFeedStatus newObject = new MarketDataFeedStatus();
+		newObject.zSetFromMarketDataFeedStatusData((MarketDataFeedStatusData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.DATA_SOURCE_ID_I,t0.PHYSICAL_PARTITION_ID_I";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*5);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DATA_SOURCE_ID_I");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("PHYSICAL_PARTITION_ID_I");
+		return result.toString();
+	}
+}
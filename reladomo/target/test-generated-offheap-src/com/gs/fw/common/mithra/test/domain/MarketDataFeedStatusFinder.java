@@ -0,0 +1,791 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class MarketDataFeedStatusFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/MarketDataFeedStatus";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.MarketDataFeedStatus";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.MarketDataFeedStatus");
+	private static final MarketDataFeedStatusSingleFinder<MarketDataFeedStatus, Object, MarketDataFeedStatus> finder = new MarketDataFeedStatusSingleFinder<MarketDataFeedStatus, Object, MarketDataFeedStatus>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[1];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(MarketDataFeedStatusFinder.MarketDataFeedStatusRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("dataSourceId");
+		finderMethodMap.addNormalAttributeName("physicalPartitionId");
+		finderMethodMap.addNormalAttributeName("lastProcessTime");
+		finderMethodMap.addNormalAttributeName("priority");
+		finderMethodMap.addNormalAttributeName("processName");
+		constantIntSets[0] = new ConstantIntSet(new int[]
+		{
+			0,2
+		}
+
+		);
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = MarketDataFeedStatusFinder.physicalPartitionId().constructEqualityMapper(ChoiceFeedNotificationFinder.physicalPartitionId());
+			result[1] = ChoiceFeedNotificationFinder.physicalPartitionId().constructEqualityMapper(MarketDataFeedStatusFinder.physicalPartitionId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static MarketDataFeedStatus findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static MarketDataFeedStatus findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static MarketDataFeedStatusList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (MarketDataFeedStatusList) finder.findMany(operation);
+	}
+
+	public static MarketDataFeedStatusList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (MarketDataFeedStatusList) finder.findManyBypassCache(operation);
+	}
+
+	private static MarketDataFeedStatus findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (MarketDataFeedStatus) FinderUtils.findOne(found);
+	}
+
+	public static MarketDataFeedStatus findByPrimaryKey(int dataSourceId, int physicalPartitionId)
+	{
+		return finder.findByPrimaryKey(dataSourceId, physicalPartitionId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			MarketDataFeedStatusData _castedTargetData = (MarketDataFeedStatusData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getDataSourceId() && _bean.getI2AsInteger() == _castedTargetData.getPhysicalPartitionId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static MarketDataFeedStatus zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (MarketDataFeedStatus) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class MarketDataFeedStatusRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<MarketDataFeedStatus, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> dataSourceId;
+		private IntegerAttribute<ParentOwnerType> physicalPartitionId;
+		private TimestampAttribute<ParentOwnerType> lastProcessTime;
+		private IntegerAttribute<ParentOwnerType> priority;
+		private StringAttribute<ParentOwnerType> processName;
+		public MarketDataFeedStatusRelatedFinder()
+		{
+			super();
+		}
+
+		public MarketDataFeedStatusRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.MarketDataFeedStatusFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return MarketDataFeedStatusFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return MarketDataFeedStatusFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return MarketDataFeedStatusFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.dataSourceId();
+			attributes[1] = this.physicalPartitionId();
+			attributes[2] = this.lastProcessTime();
+			attributes[3] = this.priority();
+			attributes[4] = this.processName();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public MarketDataFeedStatus findOne(com.gs.fw.finder.Operation operation)
+		{
+			return MarketDataFeedStatusFinder.findOne(operation, false);
+		}
+
+		public MarketDataFeedStatus findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return MarketDataFeedStatusFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends MarketDataFeedStatus> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new MarketDataFeedStatusList((Operation) operation);
+		}
+
+		public MithraList<? extends MarketDataFeedStatus> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			MarketDataFeedStatusList result = (MarketDataFeedStatusList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends MarketDataFeedStatus> constructEmptyList()
+		{
+			return new MarketDataFeedStatusList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1771817569;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> dataSourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.dataSourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("DATA_SOURCE_ID_I","","dataSourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(MarketDataFeedStatusFinder.dataSourceId(), this.mapper, this.zGetValueSelector());
+				this.dataSourceId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> physicalPartitionId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.physicalPartitionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PHYSICAL_PARTITION_ID_I","","physicalPartitionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(MarketDataFeedStatusFinder.physicalPartitionId(), this.mapper, this.zGetValueSelector());
+				this.physicalPartitionId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> lastProcessTime()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.lastProcessTime;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("LAST_PROCESS_TS","","lastProcessTime",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(MarketDataFeedStatusFinder.lastProcessTime(), this.mapper, this.zGetValueSelector());
+				this.lastProcessTime = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> priority()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.priority;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRIORITY_I","","priority",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(MarketDataFeedStatusFinder.priority(), this.mapper, this.zGetValueSelector());
+				this.priority = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> processName()
+		{
+			StringAttribute<ParentOwnerType> result = this.processName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROCESS_NAME_C","","processName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(MarketDataFeedStatusFinder.processName(), this.mapper, this.zGetValueSelector());
+				this.processName = result;
+			}
+
+			return result;
+		}
+
+		public ChoiceFeedNotificationFinder.ChoiceFeedNotificationCollectionFinderForRelatedClasses<ParentOwnerType, ChoiceFeedNotificationList, MarketDataFeedStatus> choiceMarketDataFeedNotificationMoreRecentThan(Timestamp lastProcessTime)
+		{
+			MarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(MarketDataFeedStatusFinder.zGetMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanReverseMapper(lastProcessTime));
+			newMapper.setToMany(true);
+			result = new MarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,lastProcessTime);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return MarketDataFeedStatusFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return MarketDataFeedStatusFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class MarketDataFeedStatusCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends MarketDataFeedStatusRelatedFinder<ParentOwnerType, ReturnType, MarketDataFeedStatusList, OwnerType>
+	{
+		public MarketDataFeedStatusCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class MarketDataFeedStatusCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends MarketDataFeedStatusCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public MarketDataFeedStatusCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class MarketDataFeedStatusSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends MarketDataFeedStatusRelatedFinder<ParentOwnerType, ReturnType, MarketDataFeedStatusList, OwnerType>
+	implements ToOneFinder
+	{
+		public MarketDataFeedStatusSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public MarketDataFeedStatusSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(MarketDataFeedStatus other)
+		{
+			return this.dataSourceId().eq(other.getDataSourceId())
+			.and(this.physicalPartitionId().eq(other.getPhysicalPartitionId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public MarketDataFeedStatus findByPrimaryKey(int dataSourceId, int physicalPartitionId)
+		{
+			MarketDataFeedStatus _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(dataSourceId);
+				_bean.setI2AsInteger(physicalPartitionId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (MarketDataFeedStatus) _related;
+			if (_related == null)
+			{
+				_op = this.dataSourceId().eq(dataSourceId).and(this.physicalPartitionId().eq(physicalPartitionId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class MarketDataFeedStatusSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends MarketDataFeedStatusSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public MarketDataFeedStatusSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static Mapper zGetMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanReverseMapper(Timestamp lastProcessTime)
+	{
+		return zConstructMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanReverseMapper(lastProcessTime);
+	}
+
+	public static Mapper zGetMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanMapper(Timestamp lastProcessTime)
+	{
+		return zConstructMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanMapper(lastProcessTime);
+	}
+
+	private static Mapper choiceMarketDataFeedNotificationMoreRecentThanPureReverseMapper = null;
+	public static Mapper zGetMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanPureReverseMapper()
+	{
+		if (choiceMarketDataFeedNotificationMoreRecentThanPureReverseMapper == null)
+		{
+			choiceMarketDataFeedNotificationMoreRecentThanPureReverseMapper = zConstructMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanPureReverseMapper();
+		}
+
+		return choiceMarketDataFeedNotificationMoreRecentThanPureReverseMapper;
+	}
+
+	private static Mapper zConstructMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanPureReverseMapper()
+	{
+		Mapper choiceMarketDataFeedNotificationMoreRecentThanMapper = MarketDataFeedStatusFinder.zGetConstantJoin(0);
+		choiceMarketDataFeedNotificationMoreRecentThanMapper.setName("choiceMarketDataFeedNotificationMoreRecentThan");
+		return choiceMarketDataFeedNotificationMoreRecentThanMapper;
+	}
+
+	private static Mapper zConstructMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanReverseMapper(Timestamp lastProcessTime)
+	{
+		Mapper choiceMarketDataFeedNotificationMoreRecentThanMapperInnerMapper = MarketDataFeedStatusFinder.zGetConstantJoin(0);
+		Mapper choiceMarketDataFeedNotificationMoreRecentThanMapper = new FilteredMapper(choiceMarketDataFeedNotificationMoreRecentThanMapperInnerMapper, null, ChoiceFeedNotificationFinder.sourceUpdateDate().greaterThan(lastProcessTime).and(ChoiceFeedNotificationFinder.feedModeCodeId().in(MarketDataFeedStatusFinder.zGetConstantIntSet(0))));
+		choiceMarketDataFeedNotificationMoreRecentThanMapper.setName("choiceMarketDataFeedNotificationMoreRecentThan");
+		return choiceMarketDataFeedNotificationMoreRecentThanMapper;
+	}
+
+	private static Mapper zConstructMarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanMapper(Timestamp lastProcessTime)
+	{
+		Mapper choiceMarketDataFeedNotificationMoreRecentThanMapperInnerMapper = MarketDataFeedStatusFinder.zGetConstantJoin(1);
+		Mapper choiceMarketDataFeedNotificationMoreRecentThanMapper = new FilteredMapper(choiceMarketDataFeedNotificationMoreRecentThanMapperInnerMapper, ChoiceFeedNotificationFinder.sourceUpdateDate().greaterThan(lastProcessTime).and(ChoiceFeedNotificationFinder.feedModeCodeId().in(MarketDataFeedStatusFinder.zGetConstantIntSet(0))), null);
+		choiceMarketDataFeedNotificationMoreRecentThanMapper.setName("choiceMarketDataFeedNotificationMoreRecentThan_Reverse");
+		return choiceMarketDataFeedNotificationMoreRecentThanMapper;
+	}
+
+	/** maps to C_MARKET_DATA_FEED_STATUS_TB.DATA_SOURCE_ID_I **/
+	public static IntegerAttribute<MarketDataFeedStatus> dataSourceId()
+	{
+		return finder.dataSourceId();
+	}
+
+	/** maps to C_MARKET_DATA_FEED_STATUS_TB.PHYSICAL_PARTITION_ID_I **/
+	public static IntegerAttribute<MarketDataFeedStatus> physicalPartitionId()
+	{
+		return finder.physicalPartitionId();
+	}
+
+	/** maps to C_MARKET_DATA_FEED_STATUS_TB.LAST_PROCESS_TS **/
+	public static TimestampAttribute<MarketDataFeedStatus> lastProcessTime()
+	{
+		return finder.lastProcessTime();
+	}
+
+	/** maps to C_MARKET_DATA_FEED_STATUS_TB.PRIORITY_I **/
+	public static IntegerAttribute<MarketDataFeedStatus> priority()
+	{
+		return finder.priority();
+	}
+
+	/** maps to C_MARKET_DATA_FEED_STATUS_TB.PROCESS_NAME_C **/
+	public static StringAttribute<MarketDataFeedStatus> processName()
+	{
+		return finder.processName();
+	}
+
+	public static ChoiceFeedNotificationFinder.ChoiceFeedNotificationCollectionFinderForRelatedClasses<MarketDataFeedStatus, ChoiceFeedNotificationList, MarketDataFeedStatus> choiceMarketDataFeedNotificationMoreRecentThan(Timestamp lastProcessTime)
+	{
+		return finder.choiceMarketDataFeedNotificationMoreRecentThan(lastProcessTime);
+	}
+
+	public static class MarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanFinderSubclass<ParentOwnerType> extends ChoiceFeedNotificationFinder.ChoiceFeedNotificationCollectionFinderForRelatedClasses<ParentOwnerType, ChoiceFeedNotificationList, MarketDataFeedStatus>
+	{
+		private Timestamp lastProcessTime;
+		public MarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp lastProcessTime)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.lastProcessTime = lastProcessTime;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "choiceMarketDataFeedNotificationMoreRecentThan";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new MarketDataFeedStatusChoiceMarketDataFeedNotificationMoreRecentThanFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.lastProcessTime
+			);
+		}
+
+		protected ChoiceFeedNotificationList plainValueOf(MarketDataFeedStatus _obj)
+		{
+			return _obj.getChoiceMarketDataFeedNotificationMoreRecentThan(lastProcessTime);
+		}
+
+		protected ChoiceFeedNotificationList plainListValueOf(Object _obj)
+		{
+			return ((MarketDataFeedStatusList)_obj).getChoiceMarketDataFeedNotificationMoreRecentThan(lastProcessTime);
+		}
+	}
+
+	public static Operation eq(MarketDataFeedStatus other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(dataSourceId());
+	}
+
+	public static MarketDataFeedStatusSingleFinder<MarketDataFeedStatus, Object, MarketDataFeedStatus> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			dataSourceId()
+			, physicalPartitionId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			dataSourceId()
+			, dataSourceId()
+			, physicalPartitionId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			physicalPartitionId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.MarketDataFeedStatus");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,167 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class MarketDataFeedStatusListAbstract extends DelegatingList<MarketDataFeedStatus> implements MithraTransactionalList<MarketDataFeedStatus>
+{
+	public MarketDataFeedStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public MarketDataFeedStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public MarketDataFeedStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public MarketDataFeedStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public MarketDataFeedStatus[] elements()
+	{
+		MarketDataFeedStatus[] result = new MarketDataFeedStatus[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public MarketDataFeedStatusList intersection(MarketDataFeedStatusList another)
+	{
+		return (MarketDataFeedStatusList)super.intersection(another);
+	}
+
+	public MarketDataFeedStatus getMarketDataFeedStatusAt(int index)
+	{
+		return (MarketDataFeedStatus)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.physicalPartitionId = ChoiceFeedNotification.physicalPartitionId
+	and ChoiceFeedNotification.sourceUpdateDate > {lastProcessTime}
+	and ChoiceFeedNotification.feedModeCodeId in (0,2)</pre>
+	* @return choice market data feed notification more recent than
+	*/
+	public ChoiceFeedNotificationList getChoiceMarketDataFeedNotificationMoreRecentThan(Timestamp lastProcessTime)
+	{
+		return (ChoiceFeedNotificationList) this.zGetDelegated().resolveRelationship(this, MarketDataFeedStatusFinder.choiceMarketDataFeedNotificationMoreRecentThan(lastProcessTime));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return MarketDataFeedStatusFinder.getMithraObjectPortal();
+	}
+
+	public MarketDataFeedStatusList getNonPersistentCopy()
+	{
+		MarketDataFeedStatusList result = new MarketDataFeedStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public MarketDataFeedStatusList asAdhoc()
+	{
+		return (MarketDataFeedStatusList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<MarketDataFeedStatus> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public MarketDataFeedStatusList merge(MithraTransactionalList<MarketDataFeedStatus> incoming, TopLevelMergeOptions<MarketDataFeedStatus> mergeOptions)
+	{
+		return (MarketDataFeedStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public MarketDataFeedStatusList getDetachedCopy()
+	{
+		MarketDataFeedStatusList result = new MarketDataFeedStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDataSourceId(int newValue)
+	{
+		zSetInteger(MarketDataFeedStatusFinder.dataSourceId(), newValue);
+	}
+
+	public void setPhysicalPartitionId(int newValue)
+	{
+		zSetInteger(MarketDataFeedStatusFinder.physicalPartitionId(), newValue);
+	}
+
+	public void setLastProcessTime(Timestamp newValue)
+	{
+		zSetTimestamp(MarketDataFeedStatusFinder.lastProcessTime(), newValue);
+	}
+
+	public void setPriority(int newValue)
+	{
+		zSetInteger(MarketDataFeedStatusFinder.priority(), newValue);
+	}
+
+	public void setProcessName(String newValue)
+	{
+		zSetString(MarketDataFeedStatusFinder.processName(), newValue);
+	}
+
+	public void setPriorityNull()
+	{
+		zSetAttributeNull(MarketDataFeedStatusFinder.priority());
+	}
+}
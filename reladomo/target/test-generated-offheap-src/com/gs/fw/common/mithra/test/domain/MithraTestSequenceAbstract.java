@@ -0,0 +1,275 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class MithraTestSequenceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(MithraTestSequence.class.getName());
+	public MithraTestSequenceAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public MithraTestSequence getDetachedCopy() throws MithraBusinessException
+	{
+		return (MithraTestSequence) super.getDetachedCopy();
+	}
+
+	public MithraTestSequence getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraTestSequence result = (MithraTestSequence) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public MithraTestSequence copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (MithraTestSequence) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public MithraTestSequence zFindOriginal()
+	{
+		MithraTestSequenceData data = (MithraTestSequenceData) this.currentData;
+		Operation op;
+		op = MithraTestSequenceFinder.sequenceName().eq(data.getSequenceName());
+		op = op.and(MithraTestSequenceFinder.deskId().eq(data.getDeskId()));
+		return MithraTestSequenceFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new MithraTestSequenceData();
+	}
+
+	protected void zSetFromMithraTestSequenceData( MithraTestSequenceData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromMithraTestSequenceData( MithraTestSequenceData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((MithraTestSequenceData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		MithraTestSequenceData data = (MithraTestSequenceData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(MithraTestSequenceFinder.deskId(), newValue, false, false );
+	}
+
+	public boolean isNextValueNull()
+	{
+		return ((MithraTestSequenceData) this.zSynchronizedGetData()).isNextValueNull();
+	}
+
+	public long getNextValue()
+	{
+		MithraTestSequenceData data = (MithraTestSequenceData) this.zSynchronizedGetData();
+		if (data.isNextValueNull()) MithraNullPrimitiveException.throwNew("nextValue", data);
+		return data.getNextValue();
+	}
+
+	public void setNextValue(long newValue)
+	{
+		zSetLong(MithraTestSequenceFinder.nextValue(), newValue, false, false ,true);
+	}
+
+	public boolean isSequenceNameNull()
+	{
+		return ((MithraTestSequenceData) this.zSynchronizedGetData()).isSequenceNameNull();
+	}
+
+	public String getSequenceName()
+	{
+		MithraTestSequenceData data = (MithraTestSequenceData) this.zSynchronizedGetData();
+		return data.getSequenceName();
+	}
+
+	public void setSequenceName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		throw new MithraBusinessException("Attribute 'sequenceName' cannot exceed maximum length of 50: " + newValue);
+		zSetString(MithraTestSequenceFinder.sequenceName(), newValue, true, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, MithraTestSequenceFinder.nextValue(), false);
+	}
+
+	public void setNextValueNull()
+	{
+		zNullify(MithraTestSequenceFinder.nextValue(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		MithraTestSequenceData _newData = (MithraTestSequenceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		MithraTestSequenceData _newData = (MithraTestSequenceData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MithraTestSequenceData _newData = (MithraTestSequenceData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public MithraTestSequence zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MithraTestSequence original = (MithraTestSequence) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return MithraTestSequenceFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return MithraTestSequenceFinder.getMithraObjectPortal();
+	}
+
+	public MithraTestSequence getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, MithraTestSequenceFinder.nextValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, MithraTestSequenceFinder.deskId(), false);
+		changed |= zUpdateString(behavior, data, newData, MithraTestSequenceFinder.sequenceName(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		MithraTestSequenceAbstract result = (MithraTestSequenceAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,282 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class MithraTestSequenceForDefaultSourceData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private long nextValue;
+	private String sequenceName;
+	public boolean isSequenceNameNull()
+	{
+		return this.getSequenceName() == null;
+	}
+
+	public boolean isNextValueNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeLong(this.nextValue);
+		out.writeObject(this.sequenceName);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public long getNextValue()
+	{
+		return this.nextValue;
+	}
+
+	public void setNextValue(long value)
+	{
+		this.nextValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getSequenceName()
+	{
+		return this.sequenceName;
+	}
+
+	public int zGetSequenceNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(sequenceName);
+	}
+
+	public void setSequenceName(String value)
+	{
+		this.sequenceName = StringPool.getInstance().getOrAddToCache(value, MithraTestSequenceForDefaultSourceFinder.isFullCache());
+	}
+
+	public void setSequenceNameNull()
+	{
+		this.setSequenceName(null);
+	}
+
+	public void setNextValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(MithraTestSequenceForDefaultSourceData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.nextValue = this.nextValue;
+		copy.sequenceName = this.sequenceName;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.nextValue = in.readLong();
+		this.sequenceName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), MithraTestSequenceForDefaultSourceFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final MithraTestSequenceForDefaultSourceData otherData = (MithraTestSequenceForDefaultSourceData) other;
+		if (!isSequenceNameNull() ? !getSequenceName().equals(otherData.getSequenceName()) : !otherData.isSequenceNameNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.sequenceName);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.sequenceName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), MithraTestSequenceForDefaultSourceFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final MithraTestSequenceForDefaultSourceData mithraTestSequenceForDefaultSourceData = (MithraTestSequenceForDefaultSourceData) newData;
+		this.setNextValue(mithraTestSequenceForDefaultSourceData.getNextValue());
+		if (mithraTestSequenceForDefaultSourceData.isNextValueNull()) this.setNextValueNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final MithraTestSequenceForDefaultSourceData other = (MithraTestSequenceForDefaultSourceData) newData;
+		if ( isNextValueNull() != other.isNextValueNull() || getNextValue() != other.getNextValue())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		MithraTestSequenceForDefaultSourceData copy = new MithraTestSequenceForDefaultSourceData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		MithraTestSequenceForDefaultSourceData copy = new MithraTestSequenceForDefaultSourceData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "sequenceName: "+"'"+getSequenceName()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.MithraTestSequenceForDefaultSourceData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return MithraTestSequenceForDefaultSourceFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return MithraTestSequenceForDefaultSourceFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.MithraTestSequenceForDefaultSourceData";
+	}
+}
@@ -0,0 +1,422 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class MithraTestSequenceForDefaultSourceDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "NEXT_VALUE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.NEXT_VALUE";
+	private static final String PK_WITH_ALIAS = "t0.SEQUENCE_NAME = ?";
+	private static final String PK_INDEX_COLS = "SEQUENCE_NAME";
+	protected MithraTestSequenceForDefaultSourceDatabaseObjectAbstract()
+	{
+		super("MithraTestSequenceForDefaultSource", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceForDefaultSourceFinder",
+			2, 2,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return MithraTestSequenceForDefaultSourceFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return MithraTestSequenceForDefaultSourceFinder.getFinderInstance();
+	}
+
+	public static MithraTestSequenceForDefaultSourceData allocateOnHeapData()
+	{
+		return new MithraTestSequenceForDefaultSourceData();
+	}
+
+	public static MithraTestSequenceForDefaultSourceData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new MithraTestSequenceForDefaultSourceData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraTestSequenceForDefaultSourceData data = new MithraTestSequenceForDefaultSourceData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(MithraTestSequenceForDefaultSourceFinder.getPrimaryKeyAttributes(), this, MithraTestSequenceForDefaultSourceFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(MithraTestSequenceForDefaultSourceFinder.getPrimaryKeyAttributes(), this, MithraTestSequenceForDefaultSourceFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(MithraTestSequenceForDefaultSourceFinder.getPrimaryKeyAttributes(), this, MithraTestSequenceForDefaultSourceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(MithraTestSequenceForDefaultSourceFinder.getPrimaryKeyAttributes(), this, MithraTestSequenceForDefaultSourceFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			MithraTestSequenceForDefaultSourceFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			MithraTestSequenceForDefaultSourceFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			MithraTestSequenceForDefaultSource.zConfigFullTx();
+		}
+		else
+		{
+			MithraTestSequenceForDefaultSource.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateMithraTestSequenceForDefaultSourceData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkMithraTestSequenceForDefaultSourceData(1, (MithraTestSequenceForDefaultSourceData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateMithraTestSequenceForDefaultSourcePkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getMithraTestSequenceForDefaultSourceTableName();
+	}
+
+	public String getMithraTestSequenceForDefaultSourceTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		MithraTestSequenceForDefaultSourceData data = (MithraTestSequenceForDefaultSourceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getSequenceName());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "SEQUENCE_NAME = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SEQUENCE_NAME,t0.NEXT_VALUE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*2);
+		result.append(databaseAlias).append(".").append("SEQUENCE_NAME");
+		result.append(",").append(databaseAlias).append(".").append("NEXT_VALUE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public MithraTestSequenceForDefaultSourceData inflateMithraTestSequenceForDefaultSourceData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		MithraTestSequenceForDefaultSourceData data = inflateMithraTestSequenceForDefaultSourcePkData(rs, dt);
+		inflateNonPkMithraTestSequenceForDefaultSourceData(2, data, rs, dt);
+		return data;
+	}
+
+	public MithraTestSequenceForDefaultSourceData inflateMithraTestSequenceForDefaultSourcePkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		MithraTestSequenceForDefaultSourceData _data = new MithraTestSequenceForDefaultSourceData();
+		int _pos = 1;
+		_data.setSequenceName(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkMithraTestSequenceForDefaultSourceData(int _pos, MithraTestSequenceForDefaultSourceData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			MithraTestSequenceForDefaultSourceData _data = _datax;
+			_data.setNextValue(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNextValueNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "MITHRA_TEST_SEQUENCE";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		MithraTestSequenceForDefaultSourceData data = (MithraTestSequenceForDefaultSourceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isSequenceNameNull())
+		{
+			throwNullAttribute("sequenceName");
+		}
+
+		stm.setString(pos++, data.getSequenceName());
+		if (data.isNextValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getNextValue());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "SEQUENCE_NAME,NEXT_VALUE";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		MithraTestSequenceForDefaultSource newObject = new MithraTestSequenceForDefaultSource();
+		newObject.zSetFromMithraTestSequenceForDefaultSourceData((MithraTestSequenceForDefaultSourceData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SEQUENCE_NAME";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*2);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SEQUENCE_NAME");
+		return result.toString();
+	}
+}
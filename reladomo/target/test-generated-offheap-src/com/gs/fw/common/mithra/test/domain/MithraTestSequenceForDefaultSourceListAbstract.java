@@ -0,0 +1,140 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class MithraTestSequenceForDefaultSourceListAbstract extends DelegatingList<MithraTestSequenceForDefaultSource> implements MithraTransactionalList<MithraTestSequenceForDefaultSource>
+{
+	public MithraTestSequenceForDefaultSourceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public MithraTestSequenceForDefaultSourceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public MithraTestSequenceForDefaultSourceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public MithraTestSequenceForDefaultSourceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public MithraTestSequenceForDefaultSource[] elements()
+	{
+		MithraTestSequenceForDefaultSource[] result = new MithraTestSequenceForDefaultSource[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public MithraTestSequenceForDefaultSourceList intersection(MithraTestSequenceForDefaultSourceList another)
+	{
+		return (MithraTestSequenceForDefaultSourceList)super.intersection(another);
+	}
+
+	public MithraTestSequenceForDefaultSource getMithraTestSequenceForDefaultSourceAt(int index)
+	{
+		return (MithraTestSequenceForDefaultSource)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return MithraTestSequenceForDefaultSourceFinder.getMithraObjectPortal();
+	}
+
+	public MithraTestSequenceForDefaultSourceList getNonPersistentCopy()
+	{
+		MithraTestSequenceForDefaultSourceList result = new MithraTestSequenceForDefaultSourceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public MithraTestSequenceForDefaultSourceList asAdhoc()
+	{
+		return (MithraTestSequenceForDefaultSourceList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<MithraTestSequenceForDefaultSource> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public MithraTestSequenceForDefaultSourceList merge(MithraTransactionalList<MithraTestSequenceForDefaultSource> incoming, TopLevelMergeOptions<MithraTestSequenceForDefaultSource> mergeOptions)
+	{
+		return (MithraTestSequenceForDefaultSourceList) super.merge(incoming, mergeOptions);
+	}
+
+	public MithraTestSequenceForDefaultSourceList getDetachedCopy()
+	{
+		MithraTestSequenceForDefaultSourceList result = new MithraTestSequenceForDefaultSourceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setSequenceName(String newValue)
+	{
+		zSetString(MithraTestSequenceForDefaultSourceFinder.sequenceName(), newValue);
+	}
+
+	public void setNextValue(long newValue)
+	{
+		zSetLong(MithraTestSequenceForDefaultSourceFinder.nextValue(), newValue);
+	}
+
+	public void setNextValueNull()
+	{
+		zSetAttributeNull(MithraTestSequenceForDefaultSourceFinder.nextValue());
+	}
+}
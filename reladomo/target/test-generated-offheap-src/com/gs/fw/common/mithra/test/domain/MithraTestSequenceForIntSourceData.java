@@ -0,0 +1,320 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class MithraTestSequenceForIntSourceData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private int deskId;
+	private long nextValue;
+	private String sequenceName;
+	public boolean isDeskIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSequenceNameNull()
+	{
+		return this.getSequenceName() == null;
+	}
+
+	public boolean isNextValueNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.deskId);
+		out.writeLong(this.nextValue);
+		out.writeObject(this.sequenceName);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public int getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public void setDeskId(int value)
+	{
+		this.deskId = value;
+	}
+
+	public void setDeskIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public long getNextValue()
+	{
+		return this.nextValue;
+	}
+
+	public void setNextValue(long value)
+	{
+		this.nextValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getSequenceName()
+	{
+		return this.sequenceName;
+	}
+
+	public int zGetSequenceNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(sequenceName);
+	}
+
+	public void setSequenceName(String value)
+	{
+		this.sequenceName = StringPool.getInstance().getOrAddToCache(value, MithraTestSequenceForIntSourceFinder.isFullCache());
+	}
+
+	public void setSequenceNameNull()
+	{
+		this.setSequenceName(null);
+	}
+
+	public void setNextValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(MithraTestSequenceForIntSourceData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.deskId = this.deskId;
+		copy.nextValue = this.nextValue;
+		copy.sequenceName = this.sequenceName;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.deskId = in.readInt();
+		this.nextValue = in.readLong();
+		this.sequenceName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), MithraTestSequenceForIntSourceFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final MithraTestSequenceForIntSourceData otherData = (MithraTestSequenceForIntSourceData) other;
+		if (getDeskId() != otherData.getDeskId())
+		{
+			return false;
+		}
+
+		if (!isSequenceNameNull() ? !getSequenceName().equals(otherData.getSequenceName()) : !otherData.isSequenceNameNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.deskId);
+		out.writeObject(this.sequenceName);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = in.readInt();
+		this.sequenceName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), MithraTestSequenceForIntSourceFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final MithraTestSequenceForIntSourceData mithraTestSequenceForIntSourceData = (MithraTestSequenceForIntSourceData) newData;
+		this.setDeskId(mithraTestSequenceForIntSourceData.getDeskId());
+		this.setNextValue(mithraTestSequenceForIntSourceData.getNextValue());
+		if (mithraTestSequenceForIntSourceData.isNextValueNull()) this.setNextValueNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final MithraTestSequenceForIntSourceData other = (MithraTestSequenceForIntSourceData) newData;
+		if ( getDeskId() != other.getDeskId())
+		{
+			return true;
+		}
+
+		if ( isNextValueNull() != other.isNextValueNull() || getNextValue() != other.getNextValue())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		MithraTestSequenceForIntSourceData copy = new MithraTestSequenceForIntSourceData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		MithraTestSequenceForIntSourceData copy = new MithraTestSequenceForIntSourceData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskId: "+(""+getDeskId())+ " / ";
+		result += "sequenceName: "+"'"+getSequenceName()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.MithraTestSequenceForIntSourceData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return MithraTestSequenceForIntSourceFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return MithraTestSequenceForIntSourceFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.MithraTestSequenceForIntSourceData";
+	}
+}
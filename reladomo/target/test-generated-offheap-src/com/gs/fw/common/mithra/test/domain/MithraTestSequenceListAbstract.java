@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class MithraTestSequenceListAbstract extends DelegatingList<MithraTestSequence> implements MithraTransactionalList<MithraTestSequence>
+{
+	public MithraTestSequenceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public MithraTestSequenceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public MithraTestSequenceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public MithraTestSequenceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public MithraTestSequence[] elements()
+	{
+		MithraTestSequence[] result = new MithraTestSequence[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public MithraTestSequenceList intersection(MithraTestSequenceList another)
+	{
+		return (MithraTestSequenceList)super.intersection(another);
+	}
+
+	public MithraTestSequence getMithraTestSequenceAt(int index)
+	{
+		return (MithraTestSequence)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return MithraTestSequenceFinder.getMithraObjectPortal();
+	}
+
+	public MithraTestSequenceList getNonPersistentCopy()
+	{
+		MithraTestSequenceList result = new MithraTestSequenceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public MithraTestSequenceList asAdhoc()
+	{
+		return (MithraTestSequenceList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<MithraTestSequence> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public MithraTestSequenceList merge(MithraTransactionalList<MithraTestSequence> incoming, TopLevelMergeOptions<MithraTestSequence> mergeOptions)
+	{
+		return (MithraTestSequenceList) super.merge(incoming, mergeOptions);
+	}
+
+	public MithraTestSequenceList getDetachedCopy()
+	{
+		MithraTestSequenceList result = new MithraTestSequenceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setSequenceName(String newValue)
+	{
+		zSetString(MithraTestSequenceFinder.sequenceName(), newValue);
+	}
+
+	public void setNextValue(long newValue)
+	{
+		zSetLong(MithraTestSequenceFinder.nextValue(), newValue);
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(MithraTestSequenceFinder.deskId(), newValue);
+	}
+
+	public void setNextValueNull()
+	{
+		zSetAttributeNull(MithraTestSequenceFinder.nextValue());
+	}
+}
@@ -0,0 +1,272 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class MultiPkBigDecimalAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(MultiPkBigDecimal.class.getName());
+	public MultiPkBigDecimalAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public MultiPkBigDecimal getDetachedCopy() throws MithraBusinessException
+	{
+		return (MultiPkBigDecimal) super.getDetachedCopy();
+	}
+
+	public MultiPkBigDecimal getNonPersistentCopy() throws MithraBusinessException
+	{
+		MultiPkBigDecimal result = (MultiPkBigDecimal) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public MultiPkBigDecimal copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (MultiPkBigDecimal) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public MultiPkBigDecimal zFindOriginal()
+	{
+		MultiPkBigDecimalData data = (MultiPkBigDecimalData) this.currentData;
+		Operation op;
+		op = MultiPkBigDecimalFinder.id().eq(data.getId());
+		op = op.and(MultiPkBigDecimalFinder.bdId().eq(data.getBdId()));
+		return MultiPkBigDecimalFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new MultiPkBigDecimalData();
+	}
+
+	protected void zSetFromMultiPkBigDecimalData( MultiPkBigDecimalData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromMultiPkBigDecimalData( MultiPkBigDecimalData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBdIdNull()
+	{
+		return ((MultiPkBigDecimalData) this.zSynchronizedGetData()).isBdIdNull();
+	}
+
+	public BigDecimal getBdId()
+	{
+		MultiPkBigDecimalData data = (MultiPkBigDecimalData) this.zSynchronizedGetData();
+		return data.getBdId();
+	}
+
+	public void setBdId(BigDecimal newValue)
+	{
+		zSetBigDecimal(MultiPkBigDecimalFinder.bdId(), newValue, true, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((MultiPkBigDecimalData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		MultiPkBigDecimalData data = (MultiPkBigDecimalData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(MultiPkBigDecimalFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((MultiPkBigDecimalData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public double getQuantity()
+	{
+		MultiPkBigDecimalData data = (MultiPkBigDecimalData) this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(MultiPkBigDecimalFinder.quantity(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, MultiPkBigDecimalFinder.quantity(), false);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(MultiPkBigDecimalFinder.quantity(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		MultiPkBigDecimalData _newData = (MultiPkBigDecimalData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		MultiPkBigDecimalData _newData = (MultiPkBigDecimalData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MultiPkBigDecimalData _newData = (MultiPkBigDecimalData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public MultiPkBigDecimal zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MultiPkBigDecimal original = (MultiPkBigDecimal) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return MultiPkBigDecimalFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return MultiPkBigDecimalFinder.getMithraObjectPortal();
+	}
+
+	public MultiPkBigDecimal getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, MultiPkBigDecimalFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBigDecimal(behavior, data, newData, MultiPkBigDecimalFinder.bdId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, MultiPkBigDecimalFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		MultiPkBigDecimalAbstract result = (MultiPkBigDecimalAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class MultiPkBigDecimalListAbstract extends DelegatingList<MultiPkBigDecimal> implements MithraTransactionalList<MultiPkBigDecimal>
+{
+	public MultiPkBigDecimalListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public MultiPkBigDecimalListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public MultiPkBigDecimalListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public MultiPkBigDecimalListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public MultiPkBigDecimal[] elements()
+	{
+		MultiPkBigDecimal[] result = new MultiPkBigDecimal[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public MultiPkBigDecimalList intersection(MultiPkBigDecimalList another)
+	{
+		return (MultiPkBigDecimalList)super.intersection(another);
+	}
+
+	public MultiPkBigDecimal getMultiPkBigDecimalAt(int index)
+	{
+		return (MultiPkBigDecimal)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return MultiPkBigDecimalFinder.getMithraObjectPortal();
+	}
+
+	public MultiPkBigDecimalList getNonPersistentCopy()
+	{
+		MultiPkBigDecimalList result = new MultiPkBigDecimalList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public MultiPkBigDecimalList asAdhoc()
+	{
+		return (MultiPkBigDecimalList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<MultiPkBigDecimal> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public MultiPkBigDecimalList merge(MithraTransactionalList<MultiPkBigDecimal> incoming, TopLevelMergeOptions<MultiPkBigDecimal> mergeOptions)
+	{
+		return (MultiPkBigDecimalList) super.merge(incoming, mergeOptions);
+	}
+
+	public MultiPkBigDecimalList getDetachedCopy()
+	{
+		MultiPkBigDecimalList result = new MultiPkBigDecimalList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(MultiPkBigDecimalFinder.id(), newValue);
+	}
+
+	public void setBdId(BigDecimal newValue)
+	{
+		zSetBigDecimal(MultiPkBigDecimalFinder.bdId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(MultiPkBigDecimalFinder.quantity(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(MultiPkBigDecimalFinder.quantity());
+	}
+}
@@ -0,0 +1,489 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class NoExportTestObjectAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(NoExportTestObject.class.getName());
+	private static final RelationshipHashStrategy forproductInfo = new ProductInfoRhs();
+	private static final class ProductInfoRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			NoExportTestObjectData _castedSrcData = (NoExportTestObjectData) _srcData;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			NoExportTestObjectData _castedSrcData = (NoExportTestObjectData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public NoExportTestObjectAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NoExportTestObject getDetachedCopy() throws MithraBusinessException
+	{
+		return (NoExportTestObject) super.getDetachedCopy();
+	}
+
+	public NoExportTestObject getNonPersistentCopy() throws MithraBusinessException
+	{
+		NoExportTestObject result = (NoExportTestObject) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public NoExportTestObject copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NoExportTestObject) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public NoExportTestObject zFindOriginal()
+	{
+		NoExportTestObjectData data = (NoExportTestObjectData) this.currentData;
+		Operation op;
+		op = NoExportTestObjectFinder.id().eq(data.getId());
+		return NoExportTestObjectFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NoExportTestObjectData();
+	}
+
+	protected void zSetFromNoExportTestObjectData( NoExportTestObjectData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromNoExportTestObjectData( NoExportTestObjectData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return ((NoExportTestObjectData) this.zSynchronizedGetData()).isDiscountPriceNull();
+	}
+
+	public double getDiscountPrice()
+	{
+		NoExportTestObjectData data = (NoExportTestObjectData) this.zSynchronizedGetData();
+		if (data.isDiscountPriceNull()) MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(NoExportTestObjectFinder.discountPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((NoExportTestObjectData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		NoExportTestObjectData data = (NoExportTestObjectData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(NoExportTestObjectFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((NoExportTestObjectData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		NoExportTestObjectData data = (NoExportTestObjectData) this.zSynchronizedGetData();
+		if (data.isOrderIdNull()) MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(NoExportTestObjectFinder.orderId(), newValue, false, false ,true);
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return ((NoExportTestObjectData) this.zSynchronizedGetData()).isOriginalPriceNull();
+	}
+
+	public double getOriginalPrice()
+	{
+		NoExportTestObjectData data = (NoExportTestObjectData) this.zSynchronizedGetData();
+		if (data.isOriginalPriceNull()) MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(NoExportTestObjectFinder.originalPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((NoExportTestObjectData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		NoExportTestObjectData data = (NoExportTestObjectData) this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(NoExportTestObjectFinder.productId(), newValue, true, false ,true);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((NoExportTestObjectData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public double getQuantity()
+	{
+		NoExportTestObjectData data = (NoExportTestObjectData) this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NoExportTestObjectFinder.quantity(), newValue, false, false ,true);
+	}
+
+	public boolean isStateNull()
+	{
+		return ((NoExportTestObjectData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		NoExportTestObjectData data = (NoExportTestObjectData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(NoExportTestObjectFinder.state(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, NoExportTestObjectFinder.orderId(), false);
+		zNullify(behavior, data, NoExportTestObjectFinder.productId(), true);
+		zNullify(behavior, data, NoExportTestObjectFinder.quantity(), false);
+		zNullify(behavior, data, NoExportTestObjectFinder.originalPrice(), false);
+		zNullify(behavior, data, NoExportTestObjectFinder.discountPrice(), false);
+	}
+
+	public void setOrderIdNull()
+	{
+		zNullify(NoExportTestObjectFinder.orderId(), false);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(NoExportTestObjectFinder.productId(), true);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(NoExportTestObjectFinder.quantity(), false);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zNullify(NoExportTestObjectFinder.originalPrice(), false);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zNullify(NoExportTestObjectFinder.discountPrice(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NoExportTestObjectData _newData = (NoExportTestObjectData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		NoExportTestObjectData _newData = (NoExportTestObjectData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NoExportTestObjectData _newData = (NoExportTestObjectData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public Product getProductInfo()
+	{
+		Product _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		NoExportTestObjectData _data = (NoExportTestObjectData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = ProductFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forproductInfo, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+				if (_related == null)
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = ProductFinder.productId().eq(_data.getProductId());
+					_result = ProductFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Product) _data.getProductInfo();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProductInfo(Product productInfo)
+	{
+		Product _productInfo = (Product) productInfo;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NoExportTestObjectData _data = (NoExportTestObjectData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductInfo(_productInfo);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(_productInfo.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public NoExportTestObject zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NoExportTestObject original = (NoExportTestObject) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return NoExportTestObjectFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NoExportTestObjectFinder.getMithraObjectPortal();
+	}
+
+	public NoExportTestObject getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, NoExportTestObjectFinder.discountPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, NoExportTestObjectFinder.orderId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NoExportTestObjectFinder.originalPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, NoExportTestObjectFinder.productId(), true);
+		changed |= zUpdateDouble(behavior, data, newData, NoExportTestObjectFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, NoExportTestObjectFinder.state(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, NoExportTestObjectFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		NoExportTestObjectAbstract result = (NoExportTestObjectAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,698 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class NonAuditedBalanceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericNonAuditedTemporalDirector(
+		NonAuditedBalanceFinder.businessDate()
+	, NonAuditedBalanceFinder.zGetDoubleAttributes(),NonAuditedBalanceFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	private static final Logger logger = LoggerFactory.getLogger(NonAuditedBalance.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public NonAuditedBalanceAbstract(Timestamp businessDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, NonAuditedBalanceFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NonAuditedBalanceData zSynchronizedGetData()
+	{
+		return (NonAuditedBalanceData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !NonAuditedBalanceFinder.businessDate().dataMatches(current, this.businessDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public NonAuditedBalance zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		NonAuditedBalance original = (NonAuditedBalance) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public void inactivateForArchiving(Timestamp processingDateTo, Timestamp businessDateTo) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("inactivateForArchiving is only supported for dated objects with a processing date");
+	}
+
+	public NonAuditedBalance copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (NonAuditedBalance) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public NonAuditedBalance copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (NonAuditedBalance) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			true);
+	}
+
+	public NonAuditedBalance getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		NonAuditedBalanceAbstract result = (NonAuditedBalanceAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (NonAuditedBalance ) result;
+	}
+
+	public NonAuditedBalance zFindOriginal()
+	{
+		NonAuditedBalanceData data = (NonAuditedBalanceData) this.currentData;
+		Operation op;
+		op = NonAuditedBalanceFinder.balanceId().eq(data.getBalanceId());
+		op = op.and(NonAuditedBalanceFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(NonAuditedBalanceFinder.businessDate().eq(this.getBusinessDate()));
+		return NonAuditedBalanceFinder.findOne(op);
+	}
+
+	public NonAuditedBalance getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		NonAuditedBalanceAbstract result = (NonAuditedBalanceAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (NonAuditedBalance ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public NonAuditedBalance copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (NonAuditedBalance) behavior.updateOriginalOrInsert(this);
+	}
+
+	public NonAuditedBalance copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NonAuditedBalance) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			NonAuditedBalanceData data = (NonAuditedBalanceData) this.currentData;
+			Operation op = NonAuditedBalanceFinder.businessDate().eq(this.businessDate);
+			op = op.and(NonAuditedBalanceFinder.balanceId().eq(data.getBalanceId()));
+			op = op.and(NonAuditedBalanceFinder.acmapCode().eq(data.getAcmapCode()));
+			return NonAuditedBalanceFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		NonAuditedBalanceData data = (NonAuditedBalanceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && NonAuditedBalanceFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		NonAuditedBalanceData data = (NonAuditedBalanceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceIdNull()
+	{
+		return this.zSynchronizedGetData().isBalanceIdNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isInterestNull()
+	{
+		return this.zSynchronizedGetData().isInterestNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(NonAuditedBalanceFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(NonAuditedBalanceFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public int getBalanceId()
+	{
+		return this.zSynchronizedGetData().getBalanceId();
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(NonAuditedBalanceFinder.balanceId(), newValue, true ,false);
+	}
+
+	public void setBalanceIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(NonAuditedBalanceFinder.balanceId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(NonAuditedBalanceFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(NonAuditedBalanceFinder.businessDateTo(), newValue, false );
+	}
+
+	public double getInterest()
+	{
+		NonAuditedBalanceData data = this.zSynchronizedGetData();
+		if (data.isInterestNull()) MithraNullPrimitiveException.throwNew("interest", data);
+		return data.getInterest();
+	}
+
+	public void setInterest(double newValue)
+	{
+		zSetDouble(NonAuditedBalanceFinder.interest(), newValue, false ,true);
+	}
+
+	public void setInterestUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(NonAuditedBalanceFinder.interest(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementInterest(double increment)
+	{
+		zIncrement(increment, NonAuditedBalanceFinder.interest(), false);
+	}
+
+	public void incrementInterestUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, NonAuditedBalanceFinder.interest(), false);
+	}
+
+	public double getQuantity()
+	{
+		NonAuditedBalanceData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NonAuditedBalanceFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(NonAuditedBalanceFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, NonAuditedBalanceFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, NonAuditedBalanceFinder.quantity(), false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, NonAuditedBalanceFinder.quantity(), false, mustCheckCurrent);
+		zNullify(behavior, data, NonAuditedBalanceFinder.interest(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		NonAuditedBalanceData data2 = (NonAuditedBalanceData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && NonAuditedBalanceFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(NonAuditedBalanceFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(NonAuditedBalanceFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public void setInterestNull()
+	{
+		zNullify(NonAuditedBalanceFinder.interest(), false);
+	}
+
+	public void setInterestNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(NonAuditedBalanceFinder.interest(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NonAuditedBalanceData _newData = (NonAuditedBalanceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		NonAuditedBalanceData _newData = (NonAuditedBalanceData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		NonAuditedBalanceData _newData = (NonAuditedBalanceData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		NonAuditedBalanceData _data = (NonAuditedBalanceData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(NonAuditedBalanceFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new AuditOnlyBalanceList( new None (
+					AuditOnlyBalanceFinder.balanceId()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isQuantityNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(NonAuditedBalanceFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+					_result = new AuditOnlyBalanceList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new AuditOnlyBalanceList( new None (
+						AuditOnlyBalanceFinder.balanceId()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditOnlyBalanceList) _data.getAuditedBalanceByInterest();
+			if (_result == null)
+			{
+				if (!_data.isQuantityNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(NonAuditedBalanceFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new AuditOnlyBalanceList( new None (
+						AuditOnlyBalanceFinder.balanceId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setAuditedBalanceByInterest(AuditOnlyBalanceList auditedBalanceByInterest)
+	{
+		AuditOnlyBalanceList _auditedBalanceByInterest = (AuditOnlyBalanceList) auditedBalanceByInterest;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		NonAuditedBalanceData _data = (NonAuditedBalanceData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAuditedBalanceByInterest(_auditedBalanceByInterest);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return NonAuditedBalanceFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NonAuditedBalanceData.NonAuditedBalanceDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		NonAuditedBalanceData data = (NonAuditedBalanceData) NonAuditedBalanceFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("NonAuditedBalance has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromNonAuditedBalanceData( NonAuditedBalanceData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromNonAuditedBalanceData( NonAuditedBalanceData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) NonAuditedBalanceFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NonAuditedBalanceFinder.getMithraObjectPortal();
+	}
+
+	public NonAuditedBalance getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(NonAuditedBalanceAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		NonAuditedBalanceAbstract from = (NonAuditedBalanceAbstract) f;
+		NonAuditedBalanceData newData = from.zSynchronizedGetData();
+		if (from.isInterestNull())
+		{
+			this.setInterestNull();
+		}
+		else
+		{
+			this.setInterest(newData.getInterest());
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		NonAuditedBalanceData _newData = (NonAuditedBalanceData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		NonAuditedBalanceData _newData = (NonAuditedBalanceData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(NonAuditedBalanceAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		NonAuditedBalanceAbstract from = (NonAuditedBalanceAbstract)f;
+		NonAuditedBalanceData newData = from.zSynchronizedGetData();
+		if (from.isInterestNull())
+		{
+			this.setInterestNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setInterestUntil(newData.getInterest(), exclusiveUntil);
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, NonAuditedBalanceFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, NonAuditedBalanceFinder.balanceId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NonAuditedBalanceFinder.interest(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NonAuditedBalanceFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, NonAuditedBalanceFinder.acmapCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, NonAuditedBalanceFinder.balanceId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, NonAuditedBalanceFinder.interest(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, NonAuditedBalanceFinder.quantity(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		NonAuditedBalanceData data = ((NonAuditedBalanceData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		NonAuditedBalanceData data = ((NonAuditedBalanceData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		NonAuditedBalanceData data = ((NonAuditedBalanceData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), NonAuditedBalanceFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		NonAuditedBalanceData localData = (NonAuditedBalanceData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,911 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NonAuditedBalanceFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/NonAuditedBalance";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.NonAuditedBalance";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.NonAuditedBalance");
+	private static final NonAuditedBalanceSingleFinder<NonAuditedBalance, Object, NonAuditedBalance> finder = new NonAuditedBalanceSingleFinder<NonAuditedBalance, Object, NonAuditedBalance>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(NonAuditedBalanceFinder.NonAuditedBalanceRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("balanceId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("interest");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addRelationshipName("auditedBalanceByInterest");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = NonAuditedBalanceFinder.quantity().constructEqualityMapper(AuditOnlyBalanceFinder.interest());
+			result[1] = AuditOnlyBalanceFinder.interest().constructEqualityMapper(NonAuditedBalanceFinder.quantity());
+			result[2] = NonAuditedBalanceFinder.acmapCode().constructEqualityMapper(AuditOnlyBalanceFinder.acmapCode());
+			result[3] = AuditOnlyBalanceFinder.acmapCode().constructEqualityMapper(NonAuditedBalanceFinder.acmapCode());
+			result[4] = NonAuditedBalanceFinder.interest().constructEqualityMapper(AuditOnlyBalanceFinder.interest());
+			result[5] = AuditOnlyBalanceFinder.interest().constructEqualityMapper(NonAuditedBalanceFinder.interest());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return NonAuditedBalanceFinder.zSourceAttributeType;
+	}
+
+	public static NonAuditedBalance findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static NonAuditedBalance findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static NonAuditedBalanceList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (NonAuditedBalanceList) finder.findMany(operation);
+	}
+
+	public static NonAuditedBalanceList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (NonAuditedBalanceList) finder.findManyBypassCache(operation);
+	}
+
+	private static NonAuditedBalance findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (NonAuditedBalance) FinderUtils.findOne(found);
+	}
+
+	public static NonAuditedBalance findByPrimaryKey(int balanceId, String acmapCode, Timestamp businessDate)
+	{
+		return finder.findByPrimaryKey(balanceId, acmapCode, businessDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			NonAuditedBalanceData _castedTargetData = (NonAuditedBalanceData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getBalanceId() && _bean.getO1AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return NonAuditedBalanceFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static NonAuditedBalance zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (NonAuditedBalance) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class NonAuditedBalanceRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<NonAuditedBalance, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return NonAuditedBalanceFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> balanceId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> interest;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private NonAuditedBalanceAuditedBalanceByInterestFinderSubclass<ParentOwnerType> auditedBalanceByInterest;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.businessDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public NonAuditedBalanceRelatedFinder()
+		{
+			super();
+		}
+
+		public NonAuditedBalanceRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.NonAuditedBalanceFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return NonAuditedBalanceFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return NonAuditedBalanceFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return NonAuditedBalanceFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.balanceId();
+			attributes[1] = this.quantity();
+			attributes[2] = this.interest();
+			attributes[3] = this.businessDateFrom();
+			attributes[4] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.auditedBalanceByInterest());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public NonAuditedBalance findOne(com.gs.fw.finder.Operation operation)
+		{
+			return NonAuditedBalanceFinder.findOne(operation, false);
+		}
+
+		public NonAuditedBalance findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return NonAuditedBalanceFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends NonAuditedBalance> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new NonAuditedBalanceList((Operation) operation);
+		}
+
+		public MithraList<? extends NonAuditedBalance> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			NonAuditedBalanceList result = (NonAuditedBalanceList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends NonAuditedBalance> constructEmptyList()
+		{
+			return new NonAuditedBalanceList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1113339675;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return NonAuditedBalanceFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> balanceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.balanceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("BALANCE_ID","","balanceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(NonAuditedBalanceFinder.balanceId(), this.mapper, this.zGetValueSelector());
+				this.balanceId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_QUANTITY_M","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,40,4,1, false) :
+					new MappedDoubleAttribute(NonAuditedBalanceFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interest()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interest;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_INTEREST","","interest",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,32,4,0, false) :
+					new MappedDoubleAttribute(NonAuditedBalanceFinder.interest(), this.mapper, this.zGetValueSelector());
+				this.interest = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,NonAuditedBalanceFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(NonAuditedBalanceFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,NonAuditedBalanceFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(NonAuditedBalanceFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(NonAuditedBalanceFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),NonAuditedBalanceFinder.businessDateInfinity,false,false,NonAuditedBalanceFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(NonAuditedBalanceFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, NonAuditedBalance> auditedBalanceByInterest()
+		{
+			NonAuditedBalanceAuditedBalanceByInterestFinderSubclass<ParentOwnerType> result = this.auditedBalanceByInterest;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(NonAuditedBalanceFinder.zGetNonAuditedBalanceAuditedBalanceByInterestReverseMapper());
+				newMapper.setToMany(true);
+				result = new NonAuditedBalanceAuditedBalanceByInterestFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.auditedBalanceByInterest = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return NonAuditedBalanceFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return NonAuditedBalanceFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return NonAuditedBalanceFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class NonAuditedBalanceCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends NonAuditedBalanceRelatedFinder<ParentOwnerType, ReturnType, NonAuditedBalanceList, OwnerType>
+	{
+		public NonAuditedBalanceCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class NonAuditedBalanceCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends NonAuditedBalanceCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NonAuditedBalanceCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class NonAuditedBalanceSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends NonAuditedBalanceRelatedFinder<ParentOwnerType, ReturnType, NonAuditedBalanceList, OwnerType>
+	implements ToOneFinder
+	{
+		public NonAuditedBalanceSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public NonAuditedBalanceSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(NonAuditedBalance other)
+		{
+			return this.balanceId().eq(other.getBalanceId())
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public NonAuditedBalance findByPrimaryKey(int balanceId, String acmapCode, Timestamp businessDate)
+		{
+			NonAuditedBalance _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(balanceId);
+				_bean.setO1(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (NonAuditedBalance) _related;
+			if (_related == null)
+			{
+				_op = this.balanceId().eq(balanceId).and(this.acmapCode().eq(acmapCode)).and(this.businessDate().eq(businessDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class NonAuditedBalanceSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends NonAuditedBalanceSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NonAuditedBalanceSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper auditedBalanceByInterestReverseMapper = null;
+	public static Mapper zGetNonAuditedBalanceAuditedBalanceByInterestReverseMapper()
+	{
+		if (auditedBalanceByInterestReverseMapper == null)
+		{
+			auditedBalanceByInterestReverseMapper = zConstructNonAuditedBalanceAuditedBalanceByInterestReverseMapper();
+		}
+
+		return auditedBalanceByInterestReverseMapper;
+	}
+
+	private static Mapper auditedBalanceByInterestMapper = null;
+	public static Mapper zGetNonAuditedBalanceAuditedBalanceByInterestMapper()
+	{
+		if (auditedBalanceByInterestMapper == null)
+		{
+			auditedBalanceByInterestMapper = zConstructNonAuditedBalanceAuditedBalanceByInterestMapper();
+		}
+
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper auditedBalanceByInterestPureReverseMapper = null;
+	public static Mapper zGetNonAuditedBalanceAuditedBalanceByInterestPureReverseMapper()
+	{
+		if (auditedBalanceByInterestPureReverseMapper == null)
+		{
+			auditedBalanceByInterestPureReverseMapper = zConstructNonAuditedBalanceAuditedBalanceByInterestPureReverseMapper();
+		}
+
+		return auditedBalanceByInterestPureReverseMapper;
+	}
+
+	private static Mapper zConstructNonAuditedBalanceAuditedBalanceByInterestPureReverseMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(2);
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(2));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest");
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructNonAuditedBalanceAuditedBalanceByInterestReverseMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(2);
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(2));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest");
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructNonAuditedBalanceAuditedBalanceByInterestMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(2);
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(1));
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest_Reverse");
+		return auditedBalanceByInterestMapper;
+	}
+
+	/** maps to NON_AUDITED_BALANCE.BALANCE_ID **/
+	public static IntegerAttribute<NonAuditedBalance> balanceId()
+	{
+		return finder.balanceId();
+	}
+
+	/** maps to NON_AUDITED_BALANCE.POS_QUANTITY_M **/
+	public static DoubleAttribute<NonAuditedBalance> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to NON_AUDITED_BALANCE.POS_INTEREST **/
+	public static DoubleAttribute<NonAuditedBalance> interest()
+	{
+		return finder.interest();
+	}
+
+	/** maps to NON_AUDITED_BALANCE.FROM_Z **/
+	public static TimestampAttribute<NonAuditedBalance> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to NON_AUDITED_BALANCE.THRU_Z **/
+	public static TimestampAttribute<NonAuditedBalance> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static StringAttribute<NonAuditedBalance> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static AsOfAttribute<NonAuditedBalance> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<NonAuditedBalance, AuditOnlyBalanceList, NonAuditedBalance> auditedBalanceByInterest()
+	{
+		return finder.auditedBalanceByInterest();
+	}
+
+	public static class NonAuditedBalanceAuditedBalanceByInterestFinderSubclass<ParentOwnerType> extends AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, NonAuditedBalance>
+	{
+		public NonAuditedBalanceAuditedBalanceByInterestFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "auditedBalanceByInterest";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditOnlyBalanceFinder.acmapCode(),
+				AuditOnlyBalanceFinder.interest(),
+				AuditOnlyBalanceFinder.processingDate()).withExtractors(
+				NonAuditedBalanceFinder.acmapCode(),
+				NonAuditedBalanceFinder.quantity(),
+				((OperationWithParameterExtractor)AuditOnlyBalanceFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new NonAuditedBalanceAuditedBalanceByInterestFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditOnlyBalanceList plainValueOf(NonAuditedBalance _obj)
+		{
+			return _obj.getAuditedBalanceByInterest();
+		}
+
+		protected AuditOnlyBalanceList plainListValueOf(Object _obj)
+		{
+			return ((NonAuditedBalanceList)_obj).getAuditedBalanceByInterest();
+		}
+	}
+
+	public static Operation eq(NonAuditedBalance other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(balanceId());
+	}
+
+	public static NonAuditedBalanceSingleFinder<NonAuditedBalance, Object, NonAuditedBalance> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			acmapCode()
+			, quantity()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			acmapCode()
+			, interest()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = quantity();
+		result[1] = interest();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.NonAuditedBalance");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeDangerousNoLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
@@ -0,0 +1,185 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class NonAuditedBalanceListAbstract extends DelegatingList<NonAuditedBalance> implements MithraDatedTransactionalList<NonAuditedBalance>
+{
+	public NonAuditedBalanceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public NonAuditedBalanceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public NonAuditedBalanceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public NonAuditedBalanceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public NonAuditedBalance[] elements()
+	{
+		NonAuditedBalance[] result = new NonAuditedBalance[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public NonAuditedBalanceList intersection(NonAuditedBalanceList another)
+	{
+		return (NonAuditedBalanceList)super.intersection(another);
+	}
+
+	public NonAuditedBalance getNonAuditedBalanceAt(int index)
+	{
+		return (NonAuditedBalance)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		return (AuditOnlyBalanceList) this.zGetDelegated().resolveRelationship(this, NonAuditedBalanceFinder.auditedBalanceByInterest());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NonAuditedBalanceFinder.getMithraObjectPortal();
+	}
+
+	public NonAuditedBalanceList getNonPersistentCopy()
+	{
+		NonAuditedBalanceList result = new NonAuditedBalanceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public NonAuditedBalanceList asAdhoc()
+	{
+		return (NonAuditedBalanceList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<NonAuditedBalance> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public NonAuditedBalanceList merge(MithraTransactionalList<NonAuditedBalance> incoming, TopLevelMergeOptions<NonAuditedBalance> mergeOptions)
+	{
+		return (NonAuditedBalanceList) super.merge(incoming, mergeOptions);
+	}
+
+	public NonAuditedBalanceList getDetachedCopy()
+	{
+		NonAuditedBalanceList result = new NonAuditedBalanceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(NonAuditedBalanceFinder.balanceId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NonAuditedBalanceFinder.quantity(), newValue);
+	}
+
+	public void setInterest(double newValue)
+	{
+		zSetDouble(NonAuditedBalanceFinder.interest(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(NonAuditedBalanceFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(NonAuditedBalanceFinder.businessDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(NonAuditedBalanceFinder.acmapCode(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(NonAuditedBalanceFinder.quantity());
+	}
+
+	public void setInterestNull()
+	{
+		zSetAttributeNull(NonAuditedBalanceFinder.interest());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
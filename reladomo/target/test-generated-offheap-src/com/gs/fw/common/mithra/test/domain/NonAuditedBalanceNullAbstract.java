@@ -0,0 +1,698 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class NonAuditedBalanceNullAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericNonAuditedTemporalDirector(
+		NonAuditedBalanceNullFinder.businessDate()
+	, NonAuditedBalanceNullFinder.zGetDoubleAttributes(),NonAuditedBalanceNullFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	private static final Logger logger = LoggerFactory.getLogger(NonAuditedBalanceNull.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public NonAuditedBalanceNullAbstract(Timestamp businessDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, NonAuditedBalanceNullFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NonAuditedBalanceNullData zSynchronizedGetData()
+	{
+		return (NonAuditedBalanceNullData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !NonAuditedBalanceNullFinder.businessDate().dataMatches(current, this.businessDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public NonAuditedBalanceNull zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		NonAuditedBalanceNull original = (NonAuditedBalanceNull) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public void inactivateForArchiving(Timestamp processingDateTo, Timestamp businessDateTo) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("inactivateForArchiving is only supported for dated objects with a processing date");
+	}
+
+	public NonAuditedBalanceNull copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (NonAuditedBalanceNull) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public NonAuditedBalanceNull copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (NonAuditedBalanceNull) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			true);
+	}
+
+	public NonAuditedBalanceNull getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		NonAuditedBalanceNullAbstract result = (NonAuditedBalanceNullAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (NonAuditedBalanceNull ) result;
+	}
+
+	public NonAuditedBalanceNull zFindOriginal()
+	{
+		NonAuditedBalanceNullData data = (NonAuditedBalanceNullData) this.currentData;
+		Operation op;
+		op = NonAuditedBalanceNullFinder.balanceId().eq(data.getBalanceId());
+		op = op.and(NonAuditedBalanceNullFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(NonAuditedBalanceNullFinder.businessDate().eq(this.getBusinessDate()));
+		return NonAuditedBalanceNullFinder.findOne(op);
+	}
+
+	public NonAuditedBalanceNull getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		NonAuditedBalanceNullAbstract result = (NonAuditedBalanceNullAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (NonAuditedBalanceNull ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public NonAuditedBalanceNull copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (NonAuditedBalanceNull) behavior.updateOriginalOrInsert(this);
+	}
+
+	public NonAuditedBalanceNull copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NonAuditedBalanceNull) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			NonAuditedBalanceNullData data = (NonAuditedBalanceNullData) this.currentData;
+			Operation op = NonAuditedBalanceNullFinder.businessDate().eq(this.businessDate);
+			op = op.and(NonAuditedBalanceNullFinder.balanceId().eq(data.getBalanceId()));
+			op = op.and(NonAuditedBalanceNullFinder.acmapCode().eq(data.getAcmapCode()));
+			return NonAuditedBalanceNullFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		NonAuditedBalanceNullData data = (NonAuditedBalanceNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && NonAuditedBalanceNullFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		NonAuditedBalanceNullData data = (NonAuditedBalanceNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceIdNull()
+	{
+		return this.zSynchronizedGetData().isBalanceIdNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isInterestNull()
+	{
+		return this.zSynchronizedGetData().isInterestNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(NonAuditedBalanceNullFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(NonAuditedBalanceNullFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public int getBalanceId()
+	{
+		return this.zSynchronizedGetData().getBalanceId();
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(NonAuditedBalanceNullFinder.balanceId(), newValue, true ,false);
+	}
+
+	public void setBalanceIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(NonAuditedBalanceNullFinder.balanceId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(NonAuditedBalanceNullFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(NonAuditedBalanceNullFinder.businessDateTo(), newValue, false );
+	}
+
+	public double getInterest()
+	{
+		NonAuditedBalanceNullData data = this.zSynchronizedGetData();
+		if (data.isInterestNull()) MithraNullPrimitiveException.throwNew("interest", data);
+		return data.getInterest();
+	}
+
+	public void setInterest(double newValue)
+	{
+		zSetDouble(NonAuditedBalanceNullFinder.interest(), newValue, false ,true);
+	}
+
+	public void setInterestUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(NonAuditedBalanceNullFinder.interest(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementInterest(double increment)
+	{
+		zIncrement(increment, NonAuditedBalanceNullFinder.interest(), false);
+	}
+
+	public void incrementInterestUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, NonAuditedBalanceNullFinder.interest(), false);
+	}
+
+	public double getQuantity()
+	{
+		NonAuditedBalanceNullData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NonAuditedBalanceNullFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(NonAuditedBalanceNullFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, NonAuditedBalanceNullFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, NonAuditedBalanceNullFinder.quantity(), false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, NonAuditedBalanceNullFinder.quantity(), false, mustCheckCurrent);
+		zNullify(behavior, data, NonAuditedBalanceNullFinder.interest(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		NonAuditedBalanceNullData data2 = (NonAuditedBalanceNullData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && NonAuditedBalanceNullFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(NonAuditedBalanceNullFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(NonAuditedBalanceNullFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public void setInterestNull()
+	{
+		zNullify(NonAuditedBalanceNullFinder.interest(), false);
+	}
+
+	public void setInterestNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(NonAuditedBalanceNullFinder.interest(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NonAuditedBalanceNullData _newData = (NonAuditedBalanceNullData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		NonAuditedBalanceNullData _newData = (NonAuditedBalanceNullData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		NonAuditedBalanceNullData _newData = (NonAuditedBalanceNullData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		NonAuditedBalanceNullData _data = (NonAuditedBalanceNullData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(NonAuditedBalanceNullFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new AuditOnlyBalanceList( new None (
+					AuditOnlyBalanceFinder.balanceId()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isQuantityNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(NonAuditedBalanceNullFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+					_result = new AuditOnlyBalanceList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new AuditOnlyBalanceList( new None (
+						AuditOnlyBalanceFinder.balanceId()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditOnlyBalanceList) _data.getAuditedBalanceByInterest();
+			if (_result == null)
+			{
+				if (!_data.isQuantityNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(NonAuditedBalanceNullFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new AuditOnlyBalanceList( new None (
+						AuditOnlyBalanceFinder.balanceId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setAuditedBalanceByInterest(AuditOnlyBalanceList auditedBalanceByInterest)
+	{
+		AuditOnlyBalanceList _auditedBalanceByInterest = (AuditOnlyBalanceList) auditedBalanceByInterest;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		NonAuditedBalanceNullData _data = (NonAuditedBalanceNullData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAuditedBalanceByInterest(_auditedBalanceByInterest);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return NonAuditedBalanceNullFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NonAuditedBalanceNullData.NonAuditedBalanceNullDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		NonAuditedBalanceNullData data = (NonAuditedBalanceNullData) NonAuditedBalanceNullFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("NonAuditedBalanceNull has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromNonAuditedBalanceNullData( NonAuditedBalanceNullData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromNonAuditedBalanceNullData( NonAuditedBalanceNullData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) NonAuditedBalanceNullFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NonAuditedBalanceNullFinder.getMithraObjectPortal();
+	}
+
+	public NonAuditedBalanceNull getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(NonAuditedBalanceNullAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		NonAuditedBalanceNullAbstract from = (NonAuditedBalanceNullAbstract) f;
+		NonAuditedBalanceNullData newData = from.zSynchronizedGetData();
+		if (from.isInterestNull())
+		{
+			this.setInterestNull();
+		}
+		else
+		{
+			this.setInterest(newData.getInterest());
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		NonAuditedBalanceNullData _newData = (NonAuditedBalanceNullData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		NonAuditedBalanceNullData _newData = (NonAuditedBalanceNullData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(NonAuditedBalanceNullAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		NonAuditedBalanceNullAbstract from = (NonAuditedBalanceNullAbstract)f;
+		NonAuditedBalanceNullData newData = from.zSynchronizedGetData();
+		if (from.isInterestNull())
+		{
+			this.setInterestNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setInterestUntil(newData.getInterest(), exclusiveUntil);
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, NonAuditedBalanceNullFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, NonAuditedBalanceNullFinder.balanceId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NonAuditedBalanceNullFinder.interest(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NonAuditedBalanceNullFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, NonAuditedBalanceNullFinder.acmapCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, NonAuditedBalanceNullFinder.balanceId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, NonAuditedBalanceNullFinder.interest(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, NonAuditedBalanceNullFinder.quantity(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		NonAuditedBalanceNullData data = ((NonAuditedBalanceNullData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		NonAuditedBalanceNullData data = ((NonAuditedBalanceNullData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		NonAuditedBalanceNullData data = ((NonAuditedBalanceNullData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), NonAuditedBalanceNullFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		NonAuditedBalanceNullData localData = (NonAuditedBalanceNullData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
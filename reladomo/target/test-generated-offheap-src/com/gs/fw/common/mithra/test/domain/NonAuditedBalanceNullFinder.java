@@ -0,0 +1,902 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NonAuditedBalanceNullFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/NonAuditedBalanceNull";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.NonAuditedBalanceNull";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.NonAuditedBalanceNull");
+	private static final NonAuditedBalanceNullSingleFinder<NonAuditedBalanceNull, Object, NonAuditedBalanceNull> finder = new NonAuditedBalanceNullSingleFinder<NonAuditedBalanceNull, Object, NonAuditedBalanceNull>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(NonAuditedBalanceNullFinder.NonAuditedBalanceNullRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("balanceId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("interest");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addRelationshipName("auditedBalanceByInterest");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = NonAuditedBalanceNullFinder.quantity().constructEqualityMapper(AuditOnlyBalanceFinder.interest());
+			result[1] = AuditOnlyBalanceFinder.interest().constructEqualityMapper(NonAuditedBalanceNullFinder.quantity());
+			result[2] = NonAuditedBalanceNullFinder.acmapCode().constructEqualityMapper(AuditOnlyBalanceFinder.acmapCode());
+			result[3] = AuditOnlyBalanceFinder.acmapCode().constructEqualityMapper(NonAuditedBalanceNullFinder.acmapCode());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return NonAuditedBalanceNullFinder.zSourceAttributeType;
+	}
+
+	public static NonAuditedBalanceNull findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static NonAuditedBalanceNull findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static NonAuditedBalanceNullList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (NonAuditedBalanceNullList) finder.findMany(operation);
+	}
+
+	public static NonAuditedBalanceNullList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (NonAuditedBalanceNullList) finder.findManyBypassCache(operation);
+	}
+
+	private static NonAuditedBalanceNull findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (NonAuditedBalanceNull) FinderUtils.findOne(found);
+	}
+
+	public static NonAuditedBalanceNull findByPrimaryKey(int balanceId, String acmapCode, Timestamp businessDate)
+	{
+		return finder.findByPrimaryKey(balanceId, acmapCode, businessDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			NonAuditedBalanceNullData _castedTargetData = (NonAuditedBalanceNullData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getBalanceId() && _bean.getO1AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return NonAuditedBalanceNullFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static NonAuditedBalanceNull zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (NonAuditedBalanceNull) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class NonAuditedBalanceNullRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<NonAuditedBalanceNull, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return NonAuditedBalanceNullFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> balanceId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> interest;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private NonAuditedBalanceNullAuditedBalanceByInterestFinderSubclass<ParentOwnerType> auditedBalanceByInterest;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.businessDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public NonAuditedBalanceNullRelatedFinder()
+		{
+			super();
+		}
+
+		public NonAuditedBalanceNullRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.NonAuditedBalanceNullFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return NonAuditedBalanceNullFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return NonAuditedBalanceNullFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return NonAuditedBalanceNullFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.balanceId();
+			attributes[1] = this.quantity();
+			attributes[2] = this.interest();
+			attributes[3] = this.businessDateFrom();
+			attributes[4] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.auditedBalanceByInterest());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public NonAuditedBalanceNull findOne(com.gs.fw.finder.Operation operation)
+		{
+			return NonAuditedBalanceNullFinder.findOne(operation, false);
+		}
+
+		public NonAuditedBalanceNull findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return NonAuditedBalanceNullFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends NonAuditedBalanceNull> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new NonAuditedBalanceNullList((Operation) operation);
+		}
+
+		public MithraList<? extends NonAuditedBalanceNull> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			NonAuditedBalanceNullList result = (NonAuditedBalanceNullList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends NonAuditedBalanceNull> constructEmptyList()
+		{
+			return new NonAuditedBalanceNullList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -518534313;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return NonAuditedBalanceNullFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> balanceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.balanceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("BALANCE_ID","","balanceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(NonAuditedBalanceNullFinder.balanceId(), this.mapper, this.zGetValueSelector());
+				this.balanceId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_QUANTITY_M","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,40,4,1, false) :
+					new MappedDoubleAttribute(NonAuditedBalanceNullFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interest()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interest;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_INTEREST","","interest",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,32,4,0, false) :
+					new MappedDoubleAttribute(NonAuditedBalanceNullFinder.interest(), this.mapper, this.zGetValueSelector());
+				this.interest = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,NonAuditedBalanceNullFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(NonAuditedBalanceNullFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,NonAuditedBalanceNullFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(NonAuditedBalanceNullFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(NonAuditedBalanceNullFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttributeInfiniteNull.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),NonAuditedBalanceNullFinder.businessDateInfinity,false,false,NonAuditedBalanceNullFinder.businessDateDefault,false,true) :
+					new MappedAsOfAttribute(NonAuditedBalanceNullFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, NonAuditedBalanceNull> auditedBalanceByInterest()
+		{
+			NonAuditedBalanceNullAuditedBalanceByInterestFinderSubclass<ParentOwnerType> result = this.auditedBalanceByInterest;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(NonAuditedBalanceNullFinder.zGetNonAuditedBalanceNullAuditedBalanceByInterestReverseMapper());
+				newMapper.setToMany(true);
+				result = new NonAuditedBalanceNullAuditedBalanceByInterestFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.auditedBalanceByInterest = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return NonAuditedBalanceNullFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return NonAuditedBalanceNullFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return NonAuditedBalanceNullFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class NonAuditedBalanceNullCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends NonAuditedBalanceNullRelatedFinder<ParentOwnerType, ReturnType, NonAuditedBalanceNullList, OwnerType>
+	{
+		public NonAuditedBalanceNullCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class NonAuditedBalanceNullCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends NonAuditedBalanceNullCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NonAuditedBalanceNullCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class NonAuditedBalanceNullSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends NonAuditedBalanceNullRelatedFinder<ParentOwnerType, ReturnType, NonAuditedBalanceNullList, OwnerType>
+	implements ToOneFinder
+	{
+		public NonAuditedBalanceNullSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public NonAuditedBalanceNullSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(NonAuditedBalanceNull other)
+		{
+			return this.balanceId().eq(other.getBalanceId())
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public NonAuditedBalanceNull findByPrimaryKey(int balanceId, String acmapCode, Timestamp businessDate)
+		{
+			NonAuditedBalanceNull _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(balanceId);
+				_bean.setO1(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (NonAuditedBalanceNull) _related;
+			if (_related == null)
+			{
+				_op = this.balanceId().eq(balanceId).and(this.acmapCode().eq(acmapCode)).and(this.businessDate().eq(businessDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class NonAuditedBalanceNullSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends NonAuditedBalanceNullSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NonAuditedBalanceNullSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper auditedBalanceByInterestReverseMapper = null;
+	public static Mapper zGetNonAuditedBalanceNullAuditedBalanceByInterestReverseMapper()
+	{
+		if (auditedBalanceByInterestReverseMapper == null)
+		{
+			auditedBalanceByInterestReverseMapper = zConstructNonAuditedBalanceNullAuditedBalanceByInterestReverseMapper();
+		}
+
+		return auditedBalanceByInterestReverseMapper;
+	}
+
+	private static Mapper auditedBalanceByInterestMapper = null;
+	public static Mapper zGetNonAuditedBalanceNullAuditedBalanceByInterestMapper()
+	{
+		if (auditedBalanceByInterestMapper == null)
+		{
+			auditedBalanceByInterestMapper = zConstructNonAuditedBalanceNullAuditedBalanceByInterestMapper();
+		}
+
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper auditedBalanceByInterestPureReverseMapper = null;
+	public static Mapper zGetNonAuditedBalanceNullAuditedBalanceByInterestPureReverseMapper()
+	{
+		if (auditedBalanceByInterestPureReverseMapper == null)
+		{
+			auditedBalanceByInterestPureReverseMapper = zConstructNonAuditedBalanceNullAuditedBalanceByInterestPureReverseMapper();
+		}
+
+		return auditedBalanceByInterestPureReverseMapper;
+	}
+
+	private static Mapper zConstructNonAuditedBalanceNullAuditedBalanceByInterestPureReverseMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(2);
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceNullFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceNullFinder.zGetConstantJoin(2));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest");
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructNonAuditedBalanceNullAuditedBalanceByInterestReverseMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(2);
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceNullFinder.zGetConstantJoin(0));
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceNullFinder.zGetConstantJoin(2));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest");
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructNonAuditedBalanceNullAuditedBalanceByInterestMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(2);
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceNullFinder.zGetConstantJoin(1));
+		auditedBalanceByInterestMapperMapperList.add(NonAuditedBalanceNullFinder.zGetConstantJoin(3));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest_Reverse");
+		return auditedBalanceByInterestMapper;
+	}
+
+	/** maps to NON_AUDITED_BALANCE_NULL.BALANCE_ID **/
+	public static IntegerAttribute<NonAuditedBalanceNull> balanceId()
+	{
+		return finder.balanceId();
+	}
+
+	/** maps to NON_AUDITED_BALANCE_NULL.POS_QUANTITY_M **/
+	public static DoubleAttribute<NonAuditedBalanceNull> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to NON_AUDITED_BALANCE_NULL.POS_INTEREST **/
+	public static DoubleAttribute<NonAuditedBalanceNull> interest()
+	{
+		return finder.interest();
+	}
+
+	/** maps to NON_AUDITED_BALANCE_NULL.FROM_Z **/
+	public static TimestampAttribute<NonAuditedBalanceNull> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to NON_AUDITED_BALANCE_NULL.THRU_Z **/
+	public static TimestampAttribute<NonAuditedBalanceNull> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static StringAttribute<NonAuditedBalanceNull> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static AsOfAttribute<NonAuditedBalanceNull> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<NonAuditedBalanceNull, AuditOnlyBalanceList, NonAuditedBalanceNull> auditedBalanceByInterest()
+	{
+		return finder.auditedBalanceByInterest();
+	}
+
+	public static class NonAuditedBalanceNullAuditedBalanceByInterestFinderSubclass<ParentOwnerType> extends AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, NonAuditedBalanceNull>
+	{
+		public NonAuditedBalanceNullAuditedBalanceByInterestFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "auditedBalanceByInterest";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditOnlyBalanceFinder.acmapCode(),
+				AuditOnlyBalanceFinder.interest(),
+				AuditOnlyBalanceFinder.processingDate()).withExtractors(
+				NonAuditedBalanceNullFinder.acmapCode(),
+				NonAuditedBalanceNullFinder.quantity(),
+				((OperationWithParameterExtractor)AuditOnlyBalanceFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new NonAuditedBalanceNullAuditedBalanceByInterestFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditOnlyBalanceList plainValueOf(NonAuditedBalanceNull _obj)
+		{
+			return _obj.getAuditedBalanceByInterest();
+		}
+
+		protected AuditOnlyBalanceList plainListValueOf(Object _obj)
+		{
+			return ((NonAuditedBalanceNullList)_obj).getAuditedBalanceByInterest();
+		}
+	}
+
+	public static Operation eq(NonAuditedBalanceNull other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(balanceId());
+	}
+
+	public static NonAuditedBalanceNullSingleFinder<NonAuditedBalanceNull, Object, NonAuditedBalanceNull> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			acmapCode()
+			, quantity()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = quantity();
+		result[1] = interest();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.NonAuditedBalanceNull");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeDangerousNoLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
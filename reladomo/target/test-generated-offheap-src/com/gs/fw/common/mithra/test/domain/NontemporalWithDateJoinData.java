@@ -0,0 +1,359 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NontemporalWithDateJoinData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private Timestamp businessDate;
+	private String entity;
+	private int factId;
+	public boolean isBusinessDateNull()
+	{
+		return this.getBusinessDate() == null;
+	}
+
+	public boolean isEntityNull()
+	{
+		return this.getEntity() == null;
+	}
+
+	public boolean isFactIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+		out.writeObject(this.entity);
+		out.writeInt(this.factId);
+		out.writeBoolean(_isFactIdSet);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public long zGetBusinessDateAsLong()
+	{
+		if (businessDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDate.getTime();
+	}
+
+	public void setBusinessDate(Timestamp value)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(value, NontemporalWithDateJoinFinder.isFullCache(), NontemporalWithDateJoinFinder.isOffHeap());
+	}
+
+	public void setBusinessDateNull()
+	{
+		this.setBusinessDate(null);
+	}
+
+	public String getEntity()
+	{
+		return this.entity;
+	}
+
+	public int zGetEntityAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(entity);
+	}
+
+	public void setEntity(String value)
+	{
+		this.entity = StringPool.getInstance().getOrAddToCache(value, NontemporalWithDateJoinFinder.isFullCache());
+	}
+
+	public void setEntityNull()
+	{
+		this.setEntity(null);
+	}
+
+	public int getFactId()
+	{
+		return this.factId;
+	}
+
+	public void setFactId(int value)
+	{
+		this.factId = value;
+		_isFactIdSet = true;
+	}
+
+	public void setFactIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean _isFactIdSet;
+	public boolean zGetIsFactIdSet()
+	{
+		return _isFactIdSet;
+	}
+
+	protected void copyInto(NontemporalWithDateJoinData copy, boolean withRelationships)
+	{
+		copy.businessDate = this.businessDate;
+		copy.entity = this.entity;
+		copy.factId = this.factId;
+		copy._isFactIdSet = this._isFactIdSet;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), NontemporalWithDateJoinFinder.isFullCache(), NontemporalWithDateJoinFinder.isOffHeap());
+		this.entity = StringPool.getInstance().getOrAddToCache((String)in.readObject(), NontemporalWithDateJoinFinder.isFullCache());
+		this.factId = in.readInt();
+		_isFactIdSet = in.readBoolean();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final NontemporalWithDateJoinData otherData = (NontemporalWithDateJoinData) other;
+		if (getFactId() != otherData.getFactId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.factId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.factId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getBitemporalWithDateJoin()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setBitemporalWithDateJoin(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final NontemporalWithDateJoinData nontemporalWithDateJoinData = (NontemporalWithDateJoinData) newData;
+		this.setBusinessDate(nontemporalWithDateJoinData.getBusinessDate());
+		this.setEntity(nontemporalWithDateJoinData.getEntity());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final NontemporalWithDateJoinData other = (NontemporalWithDateJoinData) newData;
+		if (!isBusinessDateNull() ? !getBusinessDate().equals(other.getBusinessDate()) : !other.isBusinessDateNull())
+		{
+			return true;
+		}
+
+		if (!isEntityNull() ? !getEntity().equals(other.getEntity()) : !other.isEntityNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		NontemporalWithDateJoinData copy = new NontemporalWithDateJoinData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		NontemporalWithDateJoinData copy = new NontemporalWithDateJoinData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "factId: "+(""+getFactId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.NontemporalWithDateJoinData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return NontemporalWithDateJoinFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return NontemporalWithDateJoinFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.NontemporalWithDateJoinData";
+	}
+}
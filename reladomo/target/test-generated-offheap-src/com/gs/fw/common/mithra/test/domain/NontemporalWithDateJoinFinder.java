@@ -0,0 +1,687 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NontemporalWithDateJoinFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/NontemporalWithDateJoin";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.NontemporalWithDateJoin";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.NontemporalWithDateJoin");
+	private static final NontemporalWithDateJoinSingleFinder<NontemporalWithDateJoin, Object, NontemporalWithDateJoin> finder = new NontemporalWithDateJoinSingleFinder<NontemporalWithDateJoin, Object, NontemporalWithDateJoin>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(NontemporalWithDateJoinFinder.NontemporalWithDateJoinRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("factId");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("entity");
+		finderMethodMap.addRelationshipName("bitemporalWithDateJoin");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static NontemporalWithDateJoin findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static NontemporalWithDateJoin findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static NontemporalWithDateJoinList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (NontemporalWithDateJoinList) finder.findMany(operation);
+	}
+
+	public static NontemporalWithDateJoinList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (NontemporalWithDateJoinList) finder.findManyBypassCache(operation);
+	}
+
+	private static NontemporalWithDateJoin findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (NontemporalWithDateJoin) FinderUtils.findOne(found);
+	}
+
+	public static NontemporalWithDateJoin findByPrimaryKey(int factId)
+	{
+		return finder.findByPrimaryKey(factId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			NontemporalWithDateJoinData _castedTargetData = (NontemporalWithDateJoinData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getFactId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static NontemporalWithDateJoin zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (NontemporalWithDateJoin) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class NontemporalWithDateJoinRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<NontemporalWithDateJoin, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> factId;
+		private TimestampAttribute<ParentOwnerType> businessDate;
+		private StringAttribute<ParentOwnerType> entity;
+		private NontemporalWithDateJoinBitemporalWithDateJoinFinderSubclass<ParentOwnerType> bitemporalWithDateJoin;
+		public NontemporalWithDateJoinRelatedFinder()
+		{
+			super();
+		}
+
+		public NontemporalWithDateJoinRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.NontemporalWithDateJoinFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return NontemporalWithDateJoinFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return NontemporalWithDateJoinFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return NontemporalWithDateJoinFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.factId();
+			attributes[1] = this.businessDate();
+			attributes[2] = this.entity();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.bitemporalWithDateJoin());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public NontemporalWithDateJoin findOne(com.gs.fw.finder.Operation operation)
+		{
+			return NontemporalWithDateJoinFinder.findOne(operation, false);
+		}
+
+		public NontemporalWithDateJoin findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return NontemporalWithDateJoinFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends NontemporalWithDateJoin> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new NontemporalWithDateJoinList((Operation) operation);
+		}
+
+		public MithraList<? extends NontemporalWithDateJoin> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			NontemporalWithDateJoinList result = (NontemporalWithDateJoinList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends NontemporalWithDateJoin> constructEmptyList()
+		{
+			return new NontemporalWithDateJoinList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -990864382;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> factId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.factId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("FACT_ID","","factId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(NontemporalWithDateJoinFinder.factId(), this.mapper, this.zGetValueSelector());
+				this.factId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("BUSINESS_DATE","","businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(NontemporalWithDateJoinFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> entity()
+		{
+			StringAttribute<ParentOwnerType> result = this.entity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ENTITY","","entity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(NontemporalWithDateJoinFinder.entity(), this.mapper, this.zGetValueSelector());
+				this.entity = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalWithDateJoinFinder.BitemporalWithDateJoinCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalWithDateJoinList, NontemporalWithDateJoin> bitemporalWithDateJoin()
+		{
+			NontemporalWithDateJoinBitemporalWithDateJoinFinderSubclass<ParentOwnerType> result = this.bitemporalWithDateJoin;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalWithDateJoinFinder.zGetBitemporalWithDateJoinNontemporalWithDateJoinMapper());
+				newMapper.setToMany(true);
+				result = new NontemporalWithDateJoinBitemporalWithDateJoinFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.bitemporalWithDateJoin = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return NontemporalWithDateJoinFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return NontemporalWithDateJoinFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class NontemporalWithDateJoinCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends NontemporalWithDateJoinRelatedFinder<ParentOwnerType, ReturnType, NontemporalWithDateJoinList, OwnerType>
+	{
+		public NontemporalWithDateJoinCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class NontemporalWithDateJoinCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends NontemporalWithDateJoinCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NontemporalWithDateJoinCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class NontemporalWithDateJoinSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends NontemporalWithDateJoinRelatedFinder<ParentOwnerType, ReturnType, NontemporalWithDateJoinList, OwnerType>
+	implements ToOneFinder
+	{
+		public NontemporalWithDateJoinSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public NontemporalWithDateJoinSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(NontemporalWithDateJoin other)
+		{
+			return this.factId().eq(other.getFactId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public NontemporalWithDateJoin findByPrimaryKey(int factId)
+		{
+			NontemporalWithDateJoin _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(factId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (NontemporalWithDateJoin) _related;
+			if (_related == null)
+			{
+				_op = this.factId().eq(factId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class NontemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends NontemporalWithDateJoinSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NontemporalWithDateJoinSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to NON_TEMPORAL_WITH_DATE_JOIN.FACT_ID **/
+	public static IntegerAttribute<NontemporalWithDateJoin> factId()
+	{
+		return finder.factId();
+	}
+
+	/** maps to NON_TEMPORAL_WITH_DATE_JOIN.BUSINESS_DATE **/
+	public static TimestampAttribute<NontemporalWithDateJoin> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	/** maps to NON_TEMPORAL_WITH_DATE_JOIN.ENTITY **/
+	public static StringAttribute<NontemporalWithDateJoin> entity()
+	{
+		return finder.entity();
+	}
+
+	public static BitemporalWithDateJoinFinder.BitemporalWithDateJoinCollectionFinderForRelatedClasses<NontemporalWithDateJoin, BitemporalWithDateJoinList, NontemporalWithDateJoin> bitemporalWithDateJoin()
+	{
+		return finder.bitemporalWithDateJoin();
+	}
+
+	public static class NontemporalWithDateJoinBitemporalWithDateJoinFinderSubclass<ParentOwnerType> extends BitemporalWithDateJoinFinder.BitemporalWithDateJoinCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalWithDateJoinList, NontemporalWithDateJoin>
+	{
+		public NontemporalWithDateJoinBitemporalWithDateJoinFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "bitemporalWithDateJoin";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalWithDateJoinFinder.gsEntity(),
+				BitemporalWithDateJoinFinder.businessDate(),
+				BitemporalWithDateJoinFinder.processingDate()).withExtractors(
+				NontemporalWithDateJoinFinder.entity(),
+				NontemporalWithDateJoinFinder.businessDate(),
+				((OperationWithParameterExtractor)BitemporalWithDateJoinFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new NontemporalWithDateJoinBitemporalWithDateJoinFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalWithDateJoinList plainValueOf(NontemporalWithDateJoin _obj)
+		{
+			return _obj.getBitemporalWithDateJoin();
+		}
+
+		protected BitemporalWithDateJoinList plainListValueOf(Object _obj)
+		{
+			return ((NontemporalWithDateJoinList)_obj).getBitemporalWithDateJoin();
+		}
+	}
+
+	public static Operation eq(NontemporalWithDateJoin other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(factId());
+	}
+
+	public static NontemporalWithDateJoinSingleFinder<NontemporalWithDateJoin, Object, NontemporalWithDateJoin> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			factId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			factId()
+			, factId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			businessDate()
+			, entity()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.NontemporalWithDateJoin");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,350 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NotDatedWithNullablePKData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private int nullablePKComponent;
+	private int objectId;
+	private double price;
+	private double quantity;
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNullablePKComponentNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isQuantityNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isPriceNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.nullablePKComponent);
+		out.writeInt(this.objectId);
+		out.writeDouble(this.price);
+		out.writeDouble(this.quantity);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public int getNullablePKComponent()
+	{
+		return this.nullablePKComponent;
+	}
+
+	public void setNullablePKComponent(int value)
+	{
+		this.nullablePKComponent = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(int value)
+	{
+		this.objectId = value;
+	}
+
+	public void setObjectIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public double getPrice()
+	{
+		return this.price;
+	}
+
+	public void setPrice(double value)
+	{
+		this.price = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public double getQuantity()
+	{
+		return this.quantity;
+	}
+
+	public void setQuantity(double value)
+	{
+		this.quantity = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public void setNullablePKComponentNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setQuantityNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setPriceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(NotDatedWithNullablePKData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.nullablePKComponent = this.nullablePKComponent;
+		copy.objectId = this.objectId;
+		copy.price = this.price;
+		copy.quantity = this.quantity;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.nullablePKComponent = in.readInt();
+		this.objectId = in.readInt();
+		this.price = in.readDouble();
+		this.quantity = in.readDouble();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final NotDatedWithNullablePKData otherData = (NotDatedWithNullablePKData) other;
+		if (!isNullablePKComponentNull() ? getNullablePKComponent() != otherData.getNullablePKComponent() : !otherData.isNullablePKComponentNull())
+		{
+			return false;
+		}
+
+		if (getObjectId() != otherData.getObjectId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.nullablePKComponent);
+		out.writeInt(this.objectId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.nullablePKComponent = in.readInt();
+		this.objectId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final NotDatedWithNullablePKData notDatedWithNullablePKData = (NotDatedWithNullablePKData) newData;
+		this.setPrice(notDatedWithNullablePKData.getPrice());
+		if (notDatedWithNullablePKData.isPriceNull()) this.setPriceNull();
+		this.setQuantity(notDatedWithNullablePKData.getQuantity());
+		if (notDatedWithNullablePKData.isQuantityNull()) this.setQuantityNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final NotDatedWithNullablePKData other = (NotDatedWithNullablePKData) newData;
+		if ( isPriceNull() != other.isPriceNull() || Math.abs(getPrice() - other.getPrice()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isQuantityNull() != other.isQuantityNull() || Math.abs(getQuantity() - other.getQuantity()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		NotDatedWithNullablePKData copy = new NotDatedWithNullablePKData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		NotDatedWithNullablePKData copy = new NotDatedWithNullablePKData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "nullablePKComponent: "+(isNullablePKComponentNull() ? "null" : (""+getNullablePKComponent()))+ " / ";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.NotDatedWithNullablePKData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		final NotDatedWithNullablePKData notDatedWithNullablePKData = (NotDatedWithNullablePKData) newData;
+		if (isNullablePKComponentNull() != notDatedWithNullablePKData.isNullablePKComponentNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return NotDatedWithNullablePKFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return NotDatedWithNullablePKFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.NotDatedWithNullablePKData";
+	}
+}
@@ -0,0 +1,489 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class NotDatedWithNullablePKDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "QUANTITY,PRICE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.QUANTITY,t0.PRICE";
+	private static final String PK_WITH_ALIAS = "t0.OBJECT_ID = ? AND t0.NULLABLE_ID = ?";
+	private static final String PK_INDEX_COLS = "OBJECT_ID,NULLABLE_ID";
+	protected NotDatedWithNullablePKDatabaseObjectAbstract()
+	{
+		super("NotDatedWithNullablePK", "com.gs.fw.common.mithra.test.domain.NotDatedWithNullablePKFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, true, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NotDatedWithNullablePKFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return NotDatedWithNullablePKFinder.getFinderInstance();
+	}
+
+	public static NotDatedWithNullablePKData allocateOnHeapData()
+	{
+		return new NotDatedWithNullablePKData();
+	}
+
+	public static NotDatedWithNullablePKData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new NotDatedWithNullablePKData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		NotDatedWithNullablePKData data = new NotDatedWithNullablePKData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(NotDatedWithNullablePKFinder.getPrimaryKeyAttributes(), this, NotDatedWithNullablePKFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(NotDatedWithNullablePKFinder.getPrimaryKeyAttributes(), this, NotDatedWithNullablePKFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(NotDatedWithNullablePKFinder.getPrimaryKeyAttributes(), this, NotDatedWithNullablePKFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(NotDatedWithNullablePKFinder.getPrimaryKeyAttributes(), this, NotDatedWithNullablePKFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			NotDatedWithNullablePKFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			NotDatedWithNullablePKFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			NotDatedWithNullablePK.zConfigFullTx();
+		}
+		else
+		{
+			NotDatedWithNullablePK.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateNotDatedWithNullablePKData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkNotDatedWithNullablePKData(1, (NotDatedWithNullablePKData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateNotDatedWithNullablePKPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getNotDatedWithNullablePKTableName();
+	}
+
+	public String getNotDatedWithNullablePKTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		NotDatedWithNullablePKData data = (NotDatedWithNullablePKData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getObjectId());
+		if( ! data.isNullablePKComponentNull())
+		{
+			stm.setInt(pos++, data.getNullablePKComponent());
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "OBJECT_ID = ? AND NULLABLE_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		NotDatedWithNullablePKData data = (NotDatedWithNullablePKData) dataObj;
+		StringBuffer result = new StringBuffer();
+		result.append(" OBJECT_ID = ? ");
+		if( data.isNullablePKComponentNull())
+		{
+			result.append(" AND ");
+			result.append(" NULLABLE_ID IS NULL ");
+		}
+		else
+		{
+			result.append(" AND ");
+			result.append(" NULLABLE_ID = ? ");
+		}
+
+		return result.toString();
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		NotDatedWithNullablePKData data = (NotDatedWithNullablePKData) dataObj;
+		StringBuilder result = new StringBuilder();
+		result.append(" t0.");
+		result.append("OBJECT_ID = ? ");
+		if( data.isNullablePKComponentNull())
+		{
+			result.append(" AND");
+			result.append(" t0.");
+			result.append("NULLABLE_ID IS NULL ");
+		}
+		else
+		{
+			result.append(" AND");
+			result.append(" t0.");
+			result.append("NULLABLE_ID = ? ");
+		}
+
+		return result.toString();
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.OBJECT_ID,t0.NULLABLE_ID,t0.QUANTITY,t0.PRICE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("OBJECT_ID");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_ID");
+		result.append(",").append(databaseAlias).append(".").append("QUANTITY");
+		result.append(",").append(databaseAlias).append(".").append("PRICE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public NotDatedWithNullablePKData inflateNotDatedWithNullablePKData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		NotDatedWithNullablePKData data = inflateNotDatedWithNullablePKPkData(rs, dt);
+		inflateNonPkNotDatedWithNullablePKData(3, data, rs, dt);
+		return data;
+	}
+
+	public NotDatedWithNullablePKData inflateNotDatedWithNullablePKPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		NotDatedWithNullablePKData _data = new NotDatedWithNullablePKData();
+		int _pos = 1;
+		_data.setObjectId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "objectId");
+		_data.setNullablePKComponent(_rs.getInt(_pos++));
+		if (_rs.wasNull())
+		{
+			_data.setNullablePKComponentNull();
+		}
+
+		return _data;
+	}
+
+	public void inflateNonPkNotDatedWithNullablePKData(int _pos, NotDatedWithNullablePKData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			NotDatedWithNullablePKData _data = _datax;
+			_data.setQuantity(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setQuantityNull();
+			}
+
+			_data.setPrice(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPriceNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "NULLABLE_PK";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		NotDatedWithNullablePKData data = (NotDatedWithNullablePKData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getObjectId());
+		if (data.isNullablePKComponentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullablePKComponent());
+		}
+
+		if (data.isQuantityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getQuantity());
+		}
+
+		if (data.isPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPrice());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "OBJECT_ID,NULLABLE_ID,QUANTITY,PRICE";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		NotDatedWithNullablePK newObject = new NotDatedWithNullablePK();
+		newObject.zSetFromNotDatedWithNullablePKData((NotDatedWithNullablePKData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.OBJECT_ID,t0.NULLABLE_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("OBJECT_ID");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("NULLABLE_ID");
+		return result.toString();
+	}
+}
@@ -0,0 +1,160 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class NotDatedWithNullablePKListAbstract extends DelegatingList<NotDatedWithNullablePK> implements MithraTransactionalList<NotDatedWithNullablePK>
+{
+	public NotDatedWithNullablePKListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public NotDatedWithNullablePKListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public NotDatedWithNullablePKListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public NotDatedWithNullablePKListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public NotDatedWithNullablePK[] elements()
+	{
+		NotDatedWithNullablePK[] result = new NotDatedWithNullablePK[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public NotDatedWithNullablePKList intersection(NotDatedWithNullablePKList another)
+	{
+		return (NotDatedWithNullablePKList)super.intersection(another);
+	}
+
+	public NotDatedWithNullablePK getNotDatedWithNullablePKAt(int index)
+	{
+		return (NotDatedWithNullablePK)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NotDatedWithNullablePKFinder.getMithraObjectPortal();
+	}
+
+	public NotDatedWithNullablePKList getNonPersistentCopy()
+	{
+		NotDatedWithNullablePKList result = new NotDatedWithNullablePKList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public NotDatedWithNullablePKList asAdhoc()
+	{
+		return (NotDatedWithNullablePKList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<NotDatedWithNullablePK> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public NotDatedWithNullablePKList merge(MithraTransactionalList<NotDatedWithNullablePK> incoming, TopLevelMergeOptions<NotDatedWithNullablePK> mergeOptions)
+	{
+		return (NotDatedWithNullablePKList) super.merge(incoming, mergeOptions);
+	}
+
+	public NotDatedWithNullablePKList getDetachedCopy()
+	{
+		NotDatedWithNullablePKList result = new NotDatedWithNullablePKList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(NotDatedWithNullablePKFinder.objectId(), newValue);
+	}
+
+	public void setNullablePKComponent(int newValue)
+	{
+		zSetInteger(NotDatedWithNullablePKFinder.nullablePKComponent(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NotDatedWithNullablePKFinder.quantity(), newValue);
+	}
+
+	public void setPrice(double newValue)
+	{
+		zSetDouble(NotDatedWithNullablePKFinder.price(), newValue);
+	}
+
+	public void setNullablePKComponentNull()
+	{
+		zSetAttributeNull(NotDatedWithNullablePKFinder.nullablePKComponent());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(NotDatedWithNullablePKFinder.quantity());
+	}
+
+	public void setPriceNull()
+	{
+		zSetAttributeNull(NotDatedWithNullablePKFinder.price());
+	}
+}
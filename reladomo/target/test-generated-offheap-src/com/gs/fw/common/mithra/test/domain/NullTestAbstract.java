@@ -0,0 +1,887 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class NullTestAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(NullTest.class.getName());
+	public NullTestAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NullTest getDetachedCopy() throws MithraBusinessException
+	{
+		return (NullTest) super.getDetachedCopy();
+	}
+
+	public NullTest getNonPersistentCopy() throws MithraBusinessException
+	{
+		NullTest result = (NullTest) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public NullTest copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NullTest) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public NullTest zFindOriginal()
+	{
+		NullTestData data = (NullTestData) this.currentData;
+		Operation op;
+		op = NullTestFinder.notNullString().eq(data.getNotNullString());
+		return NullTestFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NullTestData();
+	}
+
+	protected void zSetFromNullTestData( NullTestData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromNullTestData( NullTestData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isNoDefaultNullBooleanNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullBooleanNull();
+	}
+
+	public boolean isNoDefaultNullBoolean()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		if (data.isNoDefaultNullBooleanNull()) MithraNullPrimitiveException.throwNew("noDefaultNullBoolean", data);
+		return data.isNoDefaultNullBoolean();
+	}
+
+	public void setNoDefaultNullBoolean(boolean newValue)
+	{
+		zSetBoolean(NullTestFinder.noDefaultNullBoolean(), newValue, false, false ,true);
+	}
+
+	public boolean isNoDefaultNullByteNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullByteNull();
+	}
+
+	public byte getNoDefaultNullByte()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		if (data.isNoDefaultNullByteNull()) MithraNullPrimitiveException.throwNew("noDefaultNullByte", data);
+		return data.getNoDefaultNullByte();
+	}
+
+	public void setNoDefaultNullByte(byte newValue)
+	{
+		zSetByte(NullTestFinder.noDefaultNullByte(), newValue, false, false ,true);
+	}
+
+	public boolean isNoDefaultNullCharNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullCharNull();
+	}
+
+	public char getNoDefaultNullChar()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		if (data.isNoDefaultNullCharNull()) MithraNullPrimitiveException.throwNew("noDefaultNullChar", data);
+		return data.getNoDefaultNullChar();
+	}
+
+	public void setNoDefaultNullChar(char newValue)
+	{
+		zSetChar(NullTestFinder.noDefaultNullChar(), newValue, false, false ,true);
+	}
+
+	public boolean isNoDefaultNullDateNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullDateNull();
+	}
+
+	public Date getNoDefaultNullDate()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNoDefaultNullDate();
+	}
+
+	public void setNoDefaultNullDate(Date newValue)
+	{
+		zSetDate(NullTestFinder.noDefaultNullDate(), newValue, false, false );
+	}
+
+	public boolean isNoDefaultNullDoubleNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullDoubleNull();
+	}
+
+	public double getNoDefaultNullDouble()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		if (data.isNoDefaultNullDoubleNull()) MithraNullPrimitiveException.throwNew("noDefaultNullDouble", data);
+		return data.getNoDefaultNullDouble();
+	}
+
+	public void setNoDefaultNullDouble(double newValue)
+	{
+		zSetDouble(NullTestFinder.noDefaultNullDouble(), newValue, false, false ,true);
+	}
+
+	public boolean isNoDefaultNullFloatNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullFloatNull();
+	}
+
+	public float getNoDefaultNullFloat()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		if (data.isNoDefaultNullFloatNull()) MithraNullPrimitiveException.throwNew("noDefaultNullFloat", data);
+		return data.getNoDefaultNullFloat();
+	}
+
+	public void setNoDefaultNullFloat(float newValue)
+	{
+		zSetFloat(NullTestFinder.noDefaultNullFloat(), newValue, false, false ,true);
+	}
+
+	public boolean isNoDefaultNullIntNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullIntNull();
+	}
+
+	public int getNoDefaultNullInt()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		if (data.isNoDefaultNullIntNull()) MithraNullPrimitiveException.throwNew("noDefaultNullInt", data);
+		return data.getNoDefaultNullInt();
+	}
+
+	public void setNoDefaultNullInt(int newValue)
+	{
+		zSetInteger(NullTestFinder.noDefaultNullInt(), newValue, false, false ,true);
+	}
+
+	public boolean isNoDefaultNullLongNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullLongNull();
+	}
+
+	public long getNoDefaultNullLong()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		if (data.isNoDefaultNullLongNull()) MithraNullPrimitiveException.throwNew("noDefaultNullLong", data);
+		return data.getNoDefaultNullLong();
+	}
+
+	public void setNoDefaultNullLong(long newValue)
+	{
+		zSetLong(NullTestFinder.noDefaultNullLong(), newValue, false, false ,true);
+	}
+
+	public boolean isNoDefaultNullShortNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullShortNull();
+	}
+
+	public short getNoDefaultNullShort()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		if (data.isNoDefaultNullShortNull()) MithraNullPrimitiveException.throwNew("noDefaultNullShort", data);
+		return data.getNoDefaultNullShort();
+	}
+
+	public void setNoDefaultNullShort(short newValue)
+	{
+		zSetShort(NullTestFinder.noDefaultNullShort(), newValue, false, false ,true);
+	}
+
+	public boolean isNoDefaultNullStringNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullStringNull();
+	}
+
+	public String getNoDefaultNullString()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNoDefaultNullString();
+	}
+
+	public void setNoDefaultNullString(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'noDefaultNullString' cannot exceed maximum length of 10: " + newValue);
+		zSetString(NullTestFinder.noDefaultNullString(), newValue, false, false );
+	}
+
+	public boolean isNoDefaultNullTimestampNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNoDefaultNullTimestampNull();
+	}
+
+	public Timestamp getNoDefaultNullTimestamp()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNoDefaultNullTimestamp();
+	}
+
+	public void setNoDefaultNullTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(NullTestFinder.noDefaultNullTimestamp(), newValue, false, false );
+	}
+
+	public boolean isNotNullBooleanNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullBooleanNull();
+	}
+
+	public boolean isNotNullBoolean()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.isNotNullBoolean();
+	}
+
+	public void setNotNullBoolean(boolean newValue)
+	{
+		zSetBoolean(NullTestFinder.notNullBoolean(), newValue, false, false ,false);
+	}
+
+	public boolean isNotNullByteNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullByteNull();
+	}
+
+	public byte getNotNullByte()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullByte();
+	}
+
+	public void setNotNullByte(byte newValue)
+	{
+		zSetByte(NullTestFinder.notNullByte(), newValue, false, false ,false);
+	}
+
+	public boolean isNotNullCharNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullCharNull();
+	}
+
+	public char getNotNullChar()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullChar();
+	}
+
+	public void setNotNullChar(char newValue)
+	{
+		zSetChar(NullTestFinder.notNullChar(), newValue, false, false ,false);
+	}
+
+	public boolean isNotNullDateNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullDateNull();
+	}
+
+	public Date getNotNullDate()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullDate();
+	}
+
+	public void setNotNullDate(Date newValue)
+	{
+		zSetDate(NullTestFinder.notNullDate(), newValue, false, false );
+	}
+
+	public boolean isNotNullDoubleNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullDoubleNull();
+	}
+
+	public double getNotNullDouble()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullDouble();
+	}
+
+	public void setNotNullDouble(double newValue)
+	{
+		zSetDouble(NullTestFinder.notNullDouble(), newValue, false, false ,false);
+	}
+
+	public boolean isNotNullFloatNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullFloatNull();
+	}
+
+	public float getNotNullFloat()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullFloat();
+	}
+
+	public void setNotNullFloat(float newValue)
+	{
+		zSetFloat(NullTestFinder.notNullFloat(), newValue, false, false ,false);
+	}
+
+	public boolean isNotNullIntNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullIntNull();
+	}
+
+	public int getNotNullInt()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullInt();
+	}
+
+	public void setNotNullInt(int newValue)
+	{
+		zSetInteger(NullTestFinder.notNullInt(), newValue, false, false ,false);
+	}
+
+	public boolean isNotNullLongNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullLongNull();
+	}
+
+	public long getNotNullLong()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullLong();
+	}
+
+	public void setNotNullLong(long newValue)
+	{
+		zSetLong(NullTestFinder.notNullLong(), newValue, false, false ,false);
+	}
+
+	public boolean isNotNullShortNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullShortNull();
+	}
+
+	public short getNotNullShort()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullShort();
+	}
+
+	public void setNotNullShort(short newValue)
+	{
+		zSetShort(NullTestFinder.notNullShort(), newValue, false, false ,false);
+	}
+
+	public boolean isNotNullStringNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullStringNull();
+	}
+
+	public String getNotNullString()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullString();
+	}
+
+	public void setNotNullString(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'notNullString' cannot exceed maximum length of 30: " + newValue);
+		zSetString(NullTestFinder.notNullString(), newValue, true, false );
+	}
+
+	public boolean isNotNullTimestampNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNotNullTimestampNull();
+	}
+
+	public Timestamp getNotNullTimestamp()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNotNullTimestamp();
+	}
+
+	public void setNotNullTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(NullTestFinder.notNullTimestamp(), newValue, false, false );
+	}
+
+	public boolean isNullableBooleanNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableBooleanNull();
+	}
+
+	public boolean isNullableBoolean()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.isNullableBoolean();
+	}
+
+	public void setNullableBoolean(boolean newValue)
+	{
+		zSetBoolean(NullTestFinder.nullableBoolean(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableByteNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableByteNull();
+	}
+
+	public byte getNullableByte()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableByte();
+	}
+
+	public void setNullableByte(byte newValue)
+	{
+		zSetByte(NullTestFinder.nullableByte(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableCharNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableCharNull();
+	}
+
+	public char getNullableChar()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableChar();
+	}
+
+	public void setNullableChar(char newValue)
+	{
+		zSetChar(NullTestFinder.nullableChar(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableDateNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableDateNull();
+	}
+
+	public Date getNullableDate()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableDate();
+	}
+
+	public void setNullableDate(Date newValue)
+	{
+		zSetDate(NullTestFinder.nullableDate(), newValue, false, false );
+	}
+
+	public boolean isNullableDoubleNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableDoubleNull();
+	}
+
+	public double getNullableDouble()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableDouble();
+	}
+
+	public void setNullableDouble(double newValue)
+	{
+		zSetDouble(NullTestFinder.nullableDouble(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableFloatNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableFloatNull();
+	}
+
+	public float getNullableFloat()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableFloat();
+	}
+
+	public void setNullableFloat(float newValue)
+	{
+		zSetFloat(NullTestFinder.nullableFloat(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableIntNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableIntNull();
+	}
+
+	public int getNullableInt()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableInt();
+	}
+
+	public void setNullableInt(int newValue)
+	{
+		zSetInteger(NullTestFinder.nullableInt(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableLongNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableLongNull();
+	}
+
+	public long getNullableLong()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableLong();
+	}
+
+	public void setNullableLong(long newValue)
+	{
+		zSetLong(NullTestFinder.nullableLong(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableShortNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableShortNull();
+	}
+
+	public short getNullableShort()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableShort();
+	}
+
+	public void setNullableShort(short newValue)
+	{
+		zSetShort(NullTestFinder.nullableShort(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableStringNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableStringNull();
+	}
+
+	public String getNullableString()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableString();
+	}
+
+	public void setNullableString(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'nullableString' cannot exceed maximum length of 10: " + newValue);
+		zSetString(NullTestFinder.nullableString(), newValue, false, false );
+	}
+
+	public boolean isNullableTimestampNull()
+	{
+		return ((NullTestData) this.zSynchronizedGetData()).isNullableTimestampNull();
+	}
+
+	public Timestamp getNullableTimestamp()
+	{
+		NullTestData data = (NullTestData) this.zSynchronizedGetData();
+		return data.getNullableTimestamp();
+	}
+
+	public void setNullableTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(NullTestFinder.nullableTimestamp(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, NullTestFinder.noDefaultNullBoolean(), false);
+		zNullify(behavior, data, NullTestFinder.noDefaultNullDouble(), false);
+		zNullify(behavior, data, NullTestFinder.noDefaultNullLong(), false);
+		zNullify(behavior, data, NullTestFinder.noDefaultNullInt(), false);
+		zNullify(behavior, data, NullTestFinder.noDefaultNullChar(), false);
+		zNullify(behavior, data, NullTestFinder.noDefaultNullByte(), false);
+		zNullify(behavior, data, NullTestFinder.noDefaultNullFloat(), false);
+		zNullify(behavior, data, NullTestFinder.noDefaultNullShort(), false);
+		zNullify(behavior, data, NullTestFinder.nullableBoolean(), false);
+		zNullify(behavior, data, NullTestFinder.nullableDouble(), false);
+		zNullify(behavior, data, NullTestFinder.nullableLong(), false);
+		zNullify(behavior, data, NullTestFinder.nullableInt(), false);
+		zNullify(behavior, data, NullTestFinder.nullableChar(), false);
+		zNullify(behavior, data, NullTestFinder.nullableByte(), false);
+		zNullify(behavior, data, NullTestFinder.nullableFloat(), false);
+		zNullify(behavior, data, NullTestFinder.nullableShort(), false);
+	}
+
+	public void setNoDefaultNullBooleanNull()
+	{
+		zNullify(NullTestFinder.noDefaultNullBoolean(), false);
+	}
+
+	public void setNoDefaultNullDoubleNull()
+	{
+		zNullify(NullTestFinder.noDefaultNullDouble(), false);
+	}
+
+	public void setNoDefaultNullLongNull()
+	{
+		zNullify(NullTestFinder.noDefaultNullLong(), false);
+	}
+
+	public void setNoDefaultNullIntNull()
+	{
+		zNullify(NullTestFinder.noDefaultNullInt(), false);
+	}
+
+	public void setNoDefaultNullCharNull()
+	{
+		zNullify(NullTestFinder.noDefaultNullChar(), false);
+	}
+
+	public void setNoDefaultNullByteNull()
+	{
+		zNullify(NullTestFinder.noDefaultNullByte(), false);
+	}
+
+	public void setNoDefaultNullFloatNull()
+	{
+		zNullify(NullTestFinder.noDefaultNullFloat(), false);
+	}
+
+	public void setNoDefaultNullShortNull()
+	{
+		zNullify(NullTestFinder.noDefaultNullShort(), false);
+	}
+
+	public void setNullableBooleanNull()
+	{
+		zNullify(NullTestFinder.nullableBoolean(), false);
+	}
+
+	public void setNullableDoubleNull()
+	{
+		zNullify(NullTestFinder.nullableDouble(), false);
+	}
+
+	public void setNullableLongNull()
+	{
+		zNullify(NullTestFinder.nullableLong(), false);
+	}
+
+	public void setNullableIntNull()
+	{
+		zNullify(NullTestFinder.nullableInt(), false);
+	}
+
+	public void setNullableCharNull()
+	{
+		zNullify(NullTestFinder.nullableChar(), false);
+	}
+
+	public void setNullableByteNull()
+	{
+		zNullify(NullTestFinder.nullableByte(), false);
+	}
+
+	public void setNullableFloatNull()
+	{
+		zNullify(NullTestFinder.nullableFloat(), false);
+	}
+
+	public void setNullableShortNull()
+	{
+		zNullify(NullTestFinder.nullableShort(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NullTestData _newData = (NullTestData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		NullTestData _newData = (NullTestData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NullTestData _newData = (NullTestData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public NullTest zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NullTest original = (NullTest) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return NullTestFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NullTestFinder.getMithraObjectPortal();
+	}
+
+	public NullTest getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, NullTestFinder.noDefaultNullBoolean(), false);
+		changed |= zUpdateByte(behavior, data, newData, NullTestFinder.noDefaultNullByte(), false);
+		changed |= zUpdateChar(behavior, data, newData, NullTestFinder.noDefaultNullChar(), false);
+		changed |= zUpdateDate(behavior, data, newData, NullTestFinder.noDefaultNullDate(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NullTestFinder.noDefaultNullDouble(), false);
+		changed |= zUpdateFloat(behavior, data, newData, NullTestFinder.noDefaultNullFloat(), false);
+		changed |= zUpdateInteger(behavior, data, newData, NullTestFinder.noDefaultNullInt(), false);
+		changed |= zUpdateLong(behavior, data, newData, NullTestFinder.noDefaultNullLong(), false);
+		changed |= zUpdateShort(behavior, data, newData, NullTestFinder.noDefaultNullShort(), false);
+		changed |= zUpdateString(behavior, data, newData, NullTestFinder.noDefaultNullString(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, NullTestFinder.noDefaultNullTimestamp(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, NullTestFinder.notNullBoolean(), false);
+		changed |= zUpdateByte(behavior, data, newData, NullTestFinder.notNullByte(), false);
+		changed |= zUpdateChar(behavior, data, newData, NullTestFinder.notNullChar(), false);
+		changed |= zUpdateDate(behavior, data, newData, NullTestFinder.notNullDate(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NullTestFinder.notNullDouble(), false);
+		changed |= zUpdateFloat(behavior, data, newData, NullTestFinder.notNullFloat(), false);
+		changed |= zUpdateInteger(behavior, data, newData, NullTestFinder.notNullInt(), false);
+		changed |= zUpdateLong(behavior, data, newData, NullTestFinder.notNullLong(), false);
+		changed |= zUpdateShort(behavior, data, newData, NullTestFinder.notNullShort(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, NullTestFinder.notNullTimestamp(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, NullTestFinder.nullableBoolean(), false);
+		changed |= zUpdateByte(behavior, data, newData, NullTestFinder.nullableByte(), false);
+		changed |= zUpdateChar(behavior, data, newData, NullTestFinder.nullableChar(), false);
+		changed |= zUpdateDate(behavior, data, newData, NullTestFinder.nullableDate(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NullTestFinder.nullableDouble(), false);
+		changed |= zUpdateFloat(behavior, data, newData, NullTestFinder.nullableFloat(), false);
+		changed |= zUpdateInteger(behavior, data, newData, NullTestFinder.nullableInt(), false);
+		changed |= zUpdateLong(behavior, data, newData, NullTestFinder.nullableLong(), false);
+		changed |= zUpdateShort(behavior, data, newData, NullTestFinder.nullableShort(), false);
+		changed |= zUpdateString(behavior, data, newData, NullTestFinder.nullableString(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, NullTestFinder.nullableTimestamp(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, NullTestFinder.notNullString(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		NullTestAbstract result = (NullTestAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
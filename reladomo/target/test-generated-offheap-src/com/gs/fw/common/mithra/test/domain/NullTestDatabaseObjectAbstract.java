@@ -0,0 +1,827 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class NullTestDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "NOT_NULL_BOOLEAN,NOT_NULL_DOUBLE,NOT_NULL_LONG,NOT_NULL_INT,NOT_NULL_CHAR,NOT_NULL_TIMESTAMP,NOT_NULL_BYTE,NOT_NULL_DATE,NOT_NULL_FLOAT,NOT_NULL_SHORT,NO_DEFAULT_STRING,NO_DEFAULT_BOOLEAN,NO_DEFAULT_DOUBLE,NO_DEFAULT_LONG,NO_DEFAULT_INT,NO_DEFAULT_CHAR,NO_DEFAULT_TIMESTAMP,NO_DEFAULT_BYTE,NO_DEFAULT_DATE,NO_DEFAULT_FLOAT,NO_DEFAULT_SHORT,NULLABLE_STRING,NULLABLE_BOOLEAN,NULLABLE_DOUBLE,NULLABLE_LONG,NULLABLE_INT,NULLABLE_CHAR,NULLABLE_TIMESTAMP,NULLABLE_BYTE,NULLABLE_DATE,NULLABLE_FLOAT,NULLABLE_SHORT";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.NOT_NULL_BOOLEAN,t0.NOT_NULL_DOUBLE,t0.NOT_NULL_LONG,t0.NOT_NULL_INT,t0.NOT_NULL_CHAR,t0.NOT_NULL_TIMESTAMP,t0.NOT_NULL_BYTE,t0.NOT_NULL_DATE,t0.NOT_NULL_FLOAT,t0.NOT_NULL_SHORT,t0.NO_DEFAULT_STRING,t0.NO_DEFAULT_BOOLEAN,t0.NO_DEFAULT_DOUBLE,t0.NO_DEFAULT_LONG,t0.NO_DEFAULT_INT,t0.NO_DEFAULT_CHAR,t0.NO_DEFAULT_TIMESTAMP,t0.NO_DEFAULT_BYTE,t0.NO_DEFAULT_DATE,t0.NO_DEFAULT_FLOAT,t0.NO_DEFAULT_SHORT,t0.NULLABLE_STRING,t0.NULLABLE_BOOLEAN,t0.NULLABLE_DOUBLE,t0.NULLABLE_LONG,t0.NULLABLE_INT,t0.NULLABLE_CHAR,t0.NULLABLE_TIMESTAMP,t0.NULLABLE_BYTE,t0.NULLABLE_DATE,t0.NULLABLE_FLOAT,t0.NULLABLE_SHORT";
+	private static final String PK_WITH_ALIAS = "t0.NOT_NULL_STRING = ?";
+	private static final String PK_INDEX_COLS = "NOT_NULL_STRING";
+	protected NullTestDatabaseObjectAbstract()
+	{
+		super("NullTest", "com.gs.fw.common.mithra.test.domain.NullTestFinder",
+			33, 33,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NullTestFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return NullTestFinder.getFinderInstance();
+	}
+
+	public static NullTestData allocateOnHeapData()
+	{
+		return new NullTestData();
+	}
+
+	public static NullTestData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new NullTestData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		NullTestData data = new NullTestData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(NullTestFinder.getPrimaryKeyAttributes(), this, NullTestFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(NullTestFinder.getPrimaryKeyAttributes(), this, NullTestFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(NullTestFinder.getPrimaryKeyAttributes(), this, NullTestFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(NullTestFinder.getPrimaryKeyAttributes(), this, NullTestFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			NullTestFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			NullTestFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			NullTest.zConfigFullTx();
+		}
+		else
+		{
+			NullTest.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateNullTestData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkNullTestData(1, (NullTestData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateNullTestPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getNullTestTableName();
+	}
+
+	public String getNullTestTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		NullTestData data = (NullTestData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getNotNullString());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "NOT_NULL_STRING = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.NOT_NULL_STRING,t0.NOT_NULL_BOOLEAN,t0.NOT_NULL_DOUBLE,t0.NOT_NULL_LONG,t0.NOT_NULL_INT,t0.NOT_NULL_CHAR,t0.NOT_NULL_TIMESTAMP,t0.NOT_NULL_BYTE,t0.NOT_NULL_DATE,t0.NOT_NULL_FLOAT,t0.NOT_NULL_SHORT,t0.NO_DEFAULT_STRING,t0.NO_DEFAULT_BOOLEAN,t0.NO_DEFAULT_DOUBLE,t0.NO_DEFAULT_LONG,t0.NO_DEFAULT_INT,t0.NO_DEFAULT_CHAR,t0.NO_DEFAULT_TIMESTAMP,t0.NO_DEFAULT_BYTE,t0.NO_DEFAULT_DATE,t0.NO_DEFAULT_FLOAT,t0.NO_DEFAULT_SHORT,t0.NULLABLE_STRING,t0.NULLABLE_BOOLEAN,t0.NULLABLE_DOUBLE,t0.NULLABLE_LONG,t0.NULLABLE_INT,t0.NULLABLE_CHAR,t0.NULLABLE_TIMESTAMP,t0.NULLABLE_BYTE,t0.NULLABLE_DATE,t0.NULLABLE_FLOAT,t0.NULLABLE_SHORT";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*33);
+		result.append(databaseAlias).append(".").append("NOT_NULL_STRING");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_BOOLEAN");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_DOUBLE");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_LONG");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_INT");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_CHAR");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_TIMESTAMP");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_BYTE");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_DATE");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_FLOAT");
+		result.append(",").append(databaseAlias).append(".").append("NOT_NULL_SHORT");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_STRING");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_BOOLEAN");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_DOUBLE");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_LONG");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_INT");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_CHAR");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_TIMESTAMP");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_BYTE");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_DATE");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_FLOAT");
+		result.append(",").append(databaseAlias).append(".").append("NO_DEFAULT_SHORT");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_STRING");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_BOOLEAN");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_DOUBLE");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_LONG");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_INT");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_CHAR");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_TIMESTAMP");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_BYTE");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_FLOAT");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_SHORT");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public NullTestData inflateNullTestData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		NullTestData data = inflateNullTestPkData(rs, dt);
+		inflateNonPkNullTestData(2, data, rs, dt);
+		return data;
+	}
+
+	public NullTestData inflateNullTestPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		NullTestData _data = new NullTestData();
+		int _pos = 1;
+		_data.setNotNullString(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkNullTestData(int _pos, NullTestData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			NullTestData _data = _datax;
+			_data.setNotNullBoolean(_rs.getBoolean(_pos++));
+			checkNullPrimitive(_rs, _data, "notNullBoolean");
+			_data.setNotNullDouble(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "notNullDouble");
+			_data.setNotNullLong(_rs.getLong(_pos++));
+			checkNullPrimitive(_rs, _data, "notNullLong");
+			_data.setNotNullInt(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "notNullInt");
+			String notNullCharCharValue = _rs.getString(_pos++);
+			boolean notNullCharCharValueisNull = notNullCharCharValue == null || notNullCharCharValue.length() < 1;
+			if(!notNullCharCharValueisNull)
+			{
+				if(notNullCharCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(notNullCharCharValue.length() == 1)
+				{
+					_data.setNotNullChar(notNullCharCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				throw new MithraBusinessException("attribute ' notNullChar ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			Timestamp notNullTimestamptimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setNotNullTimestamp(notNullTimestamptimestampValue);
+			_data.setNotNullByte(_rs.getByte(_pos++));
+			checkNullPrimitive(_rs, _data, "notNullByte");
+			_data.setNotNullDate(_rs.getDate(_pos++));
+			checkNullPrimitive(_rs, _data, "notNullDate");
+			_data.setNotNullFloat(_rs.getFloat(_pos++));
+			checkNullPrimitive(_rs, _data, "notNullFloat");
+			_data.setNotNullShort(_rs.getShort(_pos++));
+			checkNullPrimitive(_rs, _data, "notNullShort");
+			_data.setNoDefaultNullString(trimString(_rs.getString(_pos++)));
+			_data.setNoDefaultNullBoolean(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNoDefaultNullBooleanNull();
+			}
+
+			_data.setNoDefaultNullDouble(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNoDefaultNullDoubleNull();
+			}
+
+			_data.setNoDefaultNullLong(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNoDefaultNullLongNull();
+			}
+
+			_data.setNoDefaultNullInt(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNoDefaultNullIntNull();
+			}
+
+			String noDefaultNullCharCharValue = _rs.getString(_pos++);
+			boolean noDefaultNullCharCharValueisNull = noDefaultNullCharCharValue == null || noDefaultNullCharCharValue.length() < 1;
+			if(!noDefaultNullCharCharValueisNull)
+			{
+				if(noDefaultNullCharCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(noDefaultNullCharCharValue.length() == 1)
+				{
+					_data.setNoDefaultNullChar(noDefaultNullCharCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setNoDefaultNullCharNull();
+			}
+
+			Timestamp noDefaultNullTimestamptimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setNoDefaultNullTimestamp(noDefaultNullTimestamptimestampValue);
+			_data.setNoDefaultNullByte(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNoDefaultNullByteNull();
+			}
+
+			_data.setNoDefaultNullDate(_rs.getDate(_pos++));
+			_data.setNoDefaultNullFloat(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNoDefaultNullFloatNull();
+			}
+
+			_data.setNoDefaultNullShort(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNoDefaultNullShortNull();
+			}
+
+			_data.setNullableString(trimString(_rs.getString(_pos++)));
+			_data.setNullableBoolean(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableBooleanNull();
+			}
+
+			_data.setNullableDouble(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableDoubleNull();
+			}
+
+			_data.setNullableLong(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableLongNull();
+			}
+
+			_data.setNullableInt(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableIntNull();
+			}
+
+			String nullableCharCharValue = _rs.getString(_pos++);
+			boolean nullableCharCharValueisNull = nullableCharCharValue == null || nullableCharCharValue.length() < 1;
+			if(!nullableCharCharValueisNull)
+			{
+				if(nullableCharCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(nullableCharCharValue.length() == 1)
+				{
+					_data.setNullableChar(nullableCharCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setNullableChar((char) ' ');
+				_data.setNullableCharNull();
+			}
+
+			Timestamp nullableTimestamptimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setNullableTimestamp(nullableTimestamptimestampValue);
+			_data.setNullableByte(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableByteNull();
+			}
+
+			_data.setNullableDate(_rs.getDate(_pos++));
+			_data.setNullableFloat(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableFloatNull();
+			}
+
+			_data.setNullableShort(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableShortNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "NULL_TEST";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		NullTestData data = (NullTestData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isNotNullStringNull())
+		{
+			throwNullAttribute("notNullString");
+		}
+
+		stm.setString(pos++, data.getNotNullString());
+		stm.setBoolean(pos++, data.isNotNullBoolean());
+		stm.setDouble(pos++, data.getNotNullDouble());
+		stm.setLong(pos++, data.getNotNullLong());
+		stm.setInt(pos++, data.getNotNullInt());
+		stm.setString(pos++, String.valueOf(data.getNotNullChar()));
+		if(data.isNotNullTimestampNull())
+		{
+			throwNullAttribute("notNullTimestamp");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getNotNullTimestamp(), false, conversionTimeZone);
+		pos++;
+		stm.setByte(pos++, data.getNotNullByte());
+		if(data.isNotNullDateNull())
+		{
+			throwNullAttribute("notNullDate");
+		}
+
+		stm.setDate(pos++, data.getNotNullDate());
+		stm.setFloat(pos++, data.getNotNullFloat());
+		stm.setShort(pos++, data.getNotNullShort());
+		if (data.isNoDefaultNullStringNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getNoDefaultNullString());
+		}
+
+		if (data.isNoDefaultNullBooleanNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isNoDefaultNullBoolean());
+		}
+
+		if (data.isNoDefaultNullDoubleNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getNoDefaultNullDouble());
+		}
+
+		if (data.isNoDefaultNullLongNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getNoDefaultNullLong());
+		}
+
+		if (data.isNoDefaultNullIntNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNoDefaultNullInt());
+		}
+
+		if (data.isNoDefaultNullCharNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getNoDefaultNullChar()));
+		}
+
+		if (data.isNoDefaultNullTimestampNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getNoDefaultNullTimestamp(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isNoDefaultNullByteNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getNoDefaultNullByte());
+		}
+
+		if (data.isNoDefaultNullDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getNoDefaultNullDate());
+		}
+
+		if (data.isNoDefaultNullFloatNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getNoDefaultNullFloat());
+		}
+
+		if (data.isNoDefaultNullShortNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getNoDefaultNullShort());
+		}
+
+		if (data.isNullableStringNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getNullableString());
+		}
+
+		if (data.isNullableBooleanNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isNullableBoolean());
+		}
+
+		if (data.isNullableDoubleNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getNullableDouble());
+		}
+
+		if (data.isNullableLongNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getNullableLong());
+		}
+
+		if (data.isNullableIntNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableInt());
+		}
+
+		if (data.isNullableCharNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getNullableChar()));
+		}
+
+		if (data.isNullableTimestampNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getNullableTimestamp(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isNullableByteNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getNullableByte());
+		}
+
+		if (data.isNullableDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getNullableDate());
+		}
+
+		if (data.isNullableFloatNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getNullableFloat());
+		}
+
+		if (data.isNullableShortNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getNullableShort());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "NOT_NULL_STRING,NOT_NULL_BOOLEAN,NOT_NULL_DOUBLE,NOT_NULL_LONG,NOT_NULL_INT,NOT_NULL_CHAR,NOT_NULL_TIMESTAMP,NOT_NULL_BYTE,NOT_NULL_DATE,NOT_NULL_FLOAT,NOT_NULL_SHORT,NO_DEFAULT_STRING,NO_DEFAULT_BOOLEAN,NO_DEFAULT_DOUBLE,NO_DEFAULT_LONG,NO_DEFAULT_INT,NO_DEFAULT_CHAR,NO_DEFAULT_TIMESTAMP,NO_DEFAULT_BYTE,NO_DEFAULT_DATE,NO_DEFAULT_FLOAT,NO_DEFAULT_SHORT,NULLABLE_STRING,NULLABLE_BOOLEAN,NULLABLE_DOUBLE,NULLABLE_LONG,NULLABLE_INT,NULLABLE_CHAR,NULLABLE_TIMESTAMP,NULLABLE_BYTE,NULLABLE_DATE,NULLABLE_FLOAT,NULLABLE_SHORT";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		NullTest newObject = new NullTest();
+		newObject.zSetFromNullTestData((NullTestData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.NOT_NULL_STRING";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*33);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("NOT_NULL_STRING");
+		return result.toString();
+	}
+}
@@ -0,0 +1,1289 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NullTestFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/NullTest";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.NullTest";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.NullTest");
+	private static final NullTestSingleFinder<NullTest, Object, NullTest> finder = new NullTestSingleFinder<NullTest, Object, NullTest>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(NullTestFinder.NullTestRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("notNullString");
+		finderMethodMap.addNormalAttributeName("notNullBoolean");
+		finderMethodMap.addNormalAttributeName("notNullDouble");
+		finderMethodMap.addNormalAttributeName("notNullLong");
+		finderMethodMap.addNormalAttributeName("notNullInt");
+		finderMethodMap.addNormalAttributeName("notNullChar");
+		finderMethodMap.addNormalAttributeName("notNullTimestamp");
+		finderMethodMap.addNormalAttributeName("notNullByte");
+		finderMethodMap.addNormalAttributeName("notNullDate");
+		finderMethodMap.addNormalAttributeName("notNullFloat");
+		finderMethodMap.addNormalAttributeName("notNullShort");
+		finderMethodMap.addNormalAttributeName("noDefaultNullString");
+		finderMethodMap.addNormalAttributeName("noDefaultNullBoolean");
+		finderMethodMap.addNormalAttributeName("noDefaultNullDouble");
+		finderMethodMap.addNormalAttributeName("noDefaultNullLong");
+		finderMethodMap.addNormalAttributeName("noDefaultNullInt");
+		finderMethodMap.addNormalAttributeName("noDefaultNullChar");
+		finderMethodMap.addNormalAttributeName("noDefaultNullTimestamp");
+		finderMethodMap.addNormalAttributeName("noDefaultNullByte");
+		finderMethodMap.addNormalAttributeName("noDefaultNullDate");
+		finderMethodMap.addNormalAttributeName("noDefaultNullFloat");
+		finderMethodMap.addNormalAttributeName("noDefaultNullShort");
+		finderMethodMap.addNormalAttributeName("nullableString");
+		finderMethodMap.addNormalAttributeName("nullableBoolean");
+		finderMethodMap.addNormalAttributeName("nullableDouble");
+		finderMethodMap.addNormalAttributeName("nullableLong");
+		finderMethodMap.addNormalAttributeName("nullableInt");
+		finderMethodMap.addNormalAttributeName("nullableChar");
+		finderMethodMap.addNormalAttributeName("nullableTimestamp");
+		finderMethodMap.addNormalAttributeName("nullableByte");
+		finderMethodMap.addNormalAttributeName("nullableDate");
+		finderMethodMap.addNormalAttributeName("nullableFloat");
+		finderMethodMap.addNormalAttributeName("nullableShort");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static NullTest findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static NullTest findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static NullTestList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (NullTestList) finder.findMany(operation);
+	}
+
+	public static NullTestList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (NullTestList) finder.findManyBypassCache(operation);
+	}
+
+	private static NullTest findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (NullTest) FinderUtils.findOne(found);
+	}
+
+	public static NullTest findByPrimaryKey(String notNullString)
+	{
+		return finder.findByPrimaryKey(notNullString);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			NullTestData _castedTargetData = (NullTestData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getNotNullString()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static NullTest zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (NullTest) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class NullTestRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<NullTest, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> notNullString;
+		private BooleanAttribute<ParentOwnerType> notNullBoolean;
+		private DoubleAttribute<ParentOwnerType> notNullDouble;
+		private LongAttribute<ParentOwnerType> notNullLong;
+		private IntegerAttribute<ParentOwnerType> notNullInt;
+		private CharAttribute<ParentOwnerType> notNullChar;
+		private TimestampAttribute<ParentOwnerType> notNullTimestamp;
+		private ByteAttribute<ParentOwnerType> notNullByte;
+		private DateAttribute<ParentOwnerType> notNullDate;
+		private FloatAttribute<ParentOwnerType> notNullFloat;
+		private ShortAttribute<ParentOwnerType> notNullShort;
+		private StringAttribute<ParentOwnerType> noDefaultNullString;
+		private BooleanAttribute<ParentOwnerType> noDefaultNullBoolean;
+		private DoubleAttribute<ParentOwnerType> noDefaultNullDouble;
+		private LongAttribute<ParentOwnerType> noDefaultNullLong;
+		private IntegerAttribute<ParentOwnerType> noDefaultNullInt;
+		private CharAttribute<ParentOwnerType> noDefaultNullChar;
+		private TimestampAttribute<ParentOwnerType> noDefaultNullTimestamp;
+		private ByteAttribute<ParentOwnerType> noDefaultNullByte;
+		private DateAttribute<ParentOwnerType> noDefaultNullDate;
+		private FloatAttribute<ParentOwnerType> noDefaultNullFloat;
+		private ShortAttribute<ParentOwnerType> noDefaultNullShort;
+		private StringAttribute<ParentOwnerType> nullableString;
+		private BooleanAttribute<ParentOwnerType> nullableBoolean;
+		private DoubleAttribute<ParentOwnerType> nullableDouble;
+		private LongAttribute<ParentOwnerType> nullableLong;
+		private IntegerAttribute<ParentOwnerType> nullableInt;
+		private CharAttribute<ParentOwnerType> nullableChar;
+		private TimestampAttribute<ParentOwnerType> nullableTimestamp;
+		private ByteAttribute<ParentOwnerType> nullableByte;
+		private DateAttribute<ParentOwnerType> nullableDate;
+		private FloatAttribute<ParentOwnerType> nullableFloat;
+		private ShortAttribute<ParentOwnerType> nullableShort;
+		public NullTestRelatedFinder()
+		{
+			super();
+		}
+
+		public NullTestRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.NullTestFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return NullTestFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return NullTestFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return NullTestFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[33];
+			attributes[0] = this.notNullString();
+			attributes[1] = this.notNullBoolean();
+			attributes[2] = this.notNullDouble();
+			attributes[3] = this.notNullLong();
+			attributes[4] = this.notNullInt();
+			attributes[5] = this.notNullChar();
+			attributes[6] = this.notNullTimestamp();
+			attributes[7] = this.notNullByte();
+			attributes[8] = this.notNullDate();
+			attributes[9] = this.notNullFloat();
+			attributes[10] = this.notNullShort();
+			attributes[11] = this.noDefaultNullString();
+			attributes[12] = this.noDefaultNullBoolean();
+			attributes[13] = this.noDefaultNullDouble();
+			attributes[14] = this.noDefaultNullLong();
+			attributes[15] = this.noDefaultNullInt();
+			attributes[16] = this.noDefaultNullChar();
+			attributes[17] = this.noDefaultNullTimestamp();
+			attributes[18] = this.noDefaultNullByte();
+			attributes[19] = this.noDefaultNullDate();
+			attributes[20] = this.noDefaultNullFloat();
+			attributes[21] = this.noDefaultNullShort();
+			attributes[22] = this.nullableString();
+			attributes[23] = this.nullableBoolean();
+			attributes[24] = this.nullableDouble();
+			attributes[25] = this.nullableLong();
+			attributes[26] = this.nullableInt();
+			attributes[27] = this.nullableChar();
+			attributes[28] = this.nullableTimestamp();
+			attributes[29] = this.nullableByte();
+			attributes[30] = this.nullableDate();
+			attributes[31] = this.nullableFloat();
+			attributes[32] = this.nullableShort();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public NullTest findOne(com.gs.fw.finder.Operation operation)
+		{
+			return NullTestFinder.findOne(operation, false);
+		}
+
+		public NullTest findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return NullTestFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends NullTest> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new NullTestList((Operation) operation);
+		}
+
+		public MithraList<? extends NullTest> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			NullTestList result = (NullTestList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends NullTest> constructEmptyList()
+		{
+			return new NullTestList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -318276822;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> notNullString()
+		{
+			StringAttribute<ParentOwnerType> result = this.notNullString;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NOT_NULL_STRING","","notNullString",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,30,true, false) :
+					new MappedStringAttribute(NullTestFinder.notNullString(), this.mapper, this.zGetValueSelector());
+				this.notNullString = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> notNullBoolean()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.notNullBoolean;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("NOT_NULL_BOOLEAN","","notNullBoolean",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(NullTestFinder.notNullBoolean(), this.mapper, this.zGetValueSelector());
+				this.notNullBoolean = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> notNullDouble()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.notNullDouble;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NOT_NULL_DOUBLE","","notNullDouble",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(NullTestFinder.notNullDouble(), this.mapper, this.zGetValueSelector());
+				this.notNullDouble = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> notNullLong()
+		{
+			LongAttribute<ParentOwnerType> result = this.notNullLong;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("NOT_NULL_LONG","","notNullLong",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(NullTestFinder.notNullLong(), this.mapper, this.zGetValueSelector());
+				this.notNullLong = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> notNullInt()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.notNullInt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NOT_NULL_INT","","notNullInt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(NullTestFinder.notNullInt(), this.mapper, this.zGetValueSelector());
+				this.notNullInt = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> notNullChar()
+		{
+			CharAttribute<ParentOwnerType> result = this.notNullChar;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("NOT_NULL_CHAR","","notNullChar",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(NullTestFinder.notNullChar(), this.mapper, this.zGetValueSelector());
+				this.notNullChar = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> notNullTimestamp()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.notNullTimestamp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("NOT_NULL_TIMESTAMP","","notNullTimestamp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(NullTestFinder.notNullTimestamp(), this.mapper, this.zGetValueSelector());
+				this.notNullTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> notNullByte()
+		{
+			ByteAttribute<ParentOwnerType> result = this.notNullByte;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("NOT_NULL_BYTE","","notNullByte",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(NullTestFinder.notNullByte(), this.mapper, this.zGetValueSelector());
+				this.notNullByte = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> notNullDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.notNullDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("NOT_NULL_DATE","","notNullDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(NullTestFinder.notNullDate(), this.mapper, this.zGetValueSelector());
+				this.notNullDate = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> notNullFloat()
+		{
+			FloatAttribute<ParentOwnerType> result = this.notNullFloat;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("NOT_NULL_FLOAT","","notNullFloat",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(NullTestFinder.notNullFloat(), this.mapper, this.zGetValueSelector());
+				this.notNullFloat = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> notNullShort()
+		{
+			ShortAttribute<ParentOwnerType> result = this.notNullShort;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("NOT_NULL_SHORT","","notNullShort",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(NullTestFinder.notNullShort(), this.mapper, this.zGetValueSelector());
+				this.notNullShort = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> noDefaultNullString()
+		{
+			StringAttribute<ParentOwnerType> result = this.noDefaultNullString;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NO_DEFAULT_STRING","","noDefaultNullString",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(NullTestFinder.noDefaultNullString(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullString = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> noDefaultNullBoolean()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.noDefaultNullBoolean;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("NO_DEFAULT_BOOLEAN","","noDefaultNullBoolean",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(NullTestFinder.noDefaultNullBoolean(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullBoolean = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> noDefaultNullDouble()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.noDefaultNullDouble;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NO_DEFAULT_DOUBLE","","noDefaultNullDouble",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(NullTestFinder.noDefaultNullDouble(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullDouble = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> noDefaultNullLong()
+		{
+			LongAttribute<ParentOwnerType> result = this.noDefaultNullLong;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("NO_DEFAULT_LONG","","noDefaultNullLong",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(NullTestFinder.noDefaultNullLong(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullLong = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> noDefaultNullInt()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.noDefaultNullInt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NO_DEFAULT_INT","","noDefaultNullInt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(NullTestFinder.noDefaultNullInt(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullInt = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> noDefaultNullChar()
+		{
+			CharAttribute<ParentOwnerType> result = this.noDefaultNullChar;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("NO_DEFAULT_CHAR","","noDefaultNullChar",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(NullTestFinder.noDefaultNullChar(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullChar = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> noDefaultNullTimestamp()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.noDefaultNullTimestamp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("NO_DEFAULT_TIMESTAMP","","noDefaultNullTimestamp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(NullTestFinder.noDefaultNullTimestamp(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> noDefaultNullByte()
+		{
+			ByteAttribute<ParentOwnerType> result = this.noDefaultNullByte;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("NO_DEFAULT_BYTE","","noDefaultNullByte",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(NullTestFinder.noDefaultNullByte(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullByte = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> noDefaultNullDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.noDefaultNullDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("NO_DEFAULT_DATE","","noDefaultNullDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(NullTestFinder.noDefaultNullDate(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullDate = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> noDefaultNullFloat()
+		{
+			FloatAttribute<ParentOwnerType> result = this.noDefaultNullFloat;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("NO_DEFAULT_FLOAT","","noDefaultNullFloat",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(NullTestFinder.noDefaultNullFloat(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullFloat = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> noDefaultNullShort()
+		{
+			ShortAttribute<ParentOwnerType> result = this.noDefaultNullShort;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("NO_DEFAULT_SHORT","","noDefaultNullShort",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(NullTestFinder.noDefaultNullShort(), this.mapper, this.zGetValueSelector());
+				this.noDefaultNullShort = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> nullableString()
+		{
+			StringAttribute<ParentOwnerType> result = this.nullableString;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NULLABLE_STRING","","nullableString",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(NullTestFinder.nullableString(), this.mapper, this.zGetValueSelector());
+				this.nullableString = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> nullableBoolean()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.nullableBoolean;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("NULLABLE_BOOLEAN","","nullableBoolean",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(NullTestFinder.nullableBoolean(), this.mapper, this.zGetValueSelector());
+				this.nullableBoolean = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> nullableDouble()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.nullableDouble;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NULLABLE_DOUBLE","","nullableDouble",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(NullTestFinder.nullableDouble(), this.mapper, this.zGetValueSelector());
+				this.nullableDouble = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> nullableLong()
+		{
+			LongAttribute<ParentOwnerType> result = this.nullableLong;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("NULLABLE_LONG","","nullableLong",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(NullTestFinder.nullableLong(), this.mapper, this.zGetValueSelector());
+				this.nullableLong = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableInt()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableInt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULLABLE_INT","","nullableInt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(NullTestFinder.nullableInt(), this.mapper, this.zGetValueSelector());
+				this.nullableInt = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> nullableChar()
+		{
+			CharAttribute<ParentOwnerType> result = this.nullableChar;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("NULLABLE_CHAR","","nullableChar",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(NullTestFinder.nullableChar(), this.mapper, this.zGetValueSelector());
+				this.nullableChar = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> nullableTimestamp()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.nullableTimestamp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("NULLABLE_TIMESTAMP","","nullableTimestamp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(NullTestFinder.nullableTimestamp(), this.mapper, this.zGetValueSelector());
+				this.nullableTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> nullableByte()
+		{
+			ByteAttribute<ParentOwnerType> result = this.nullableByte;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("NULLABLE_BYTE","","nullableByte",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(NullTestFinder.nullableByte(), this.mapper, this.zGetValueSelector());
+				this.nullableByte = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> nullableDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.nullableDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("NULLABLE_DATE","","nullableDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(NullTestFinder.nullableDate(), this.mapper, this.zGetValueSelector());
+				this.nullableDate = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> nullableFloat()
+		{
+			FloatAttribute<ParentOwnerType> result = this.nullableFloat;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("NULLABLE_FLOAT","","nullableFloat",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(NullTestFinder.nullableFloat(), this.mapper, this.zGetValueSelector());
+				this.nullableFloat = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> nullableShort()
+		{
+			ShortAttribute<ParentOwnerType> result = this.nullableShort;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("NULLABLE_SHORT","","nullableShort",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(NullTestFinder.nullableShort(), this.mapper, this.zGetValueSelector());
+				this.nullableShort = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return NullTestFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return NullTestFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class NullTestCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends NullTestRelatedFinder<ParentOwnerType, ReturnType, NullTestList, OwnerType>
+	{
+		public NullTestCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class NullTestCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends NullTestCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NullTestCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class NullTestSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends NullTestRelatedFinder<ParentOwnerType, ReturnType, NullTestList, OwnerType>
+	implements ToOneFinder
+	{
+		public NullTestSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public NullTestSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(NullTest other)
+		{
+			return this.notNullString().eq(other.getNotNullString())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public NullTest findByPrimaryKey(String notNullString)
+		{
+			NullTest _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (notNullString != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(notNullString);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (NullTest) _related;
+			if (_related == null)
+			{
+				_op = this.notNullString().eq(notNullString);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class NullTestSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends NullTestSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NullTestSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_STRING **/
+	public static StringAttribute<NullTest> notNullString()
+	{
+		return finder.notNullString();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_BOOLEAN **/
+	public static BooleanAttribute<NullTest> notNullBoolean()
+	{
+		return finder.notNullBoolean();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_DOUBLE **/
+	public static DoubleAttribute<NullTest> notNullDouble()
+	{
+		return finder.notNullDouble();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_LONG **/
+	public static LongAttribute<NullTest> notNullLong()
+	{
+		return finder.notNullLong();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_INT **/
+	public static IntegerAttribute<NullTest> notNullInt()
+	{
+		return finder.notNullInt();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_CHAR **/
+	public static CharAttribute<NullTest> notNullChar()
+	{
+		return finder.notNullChar();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_TIMESTAMP **/
+	public static TimestampAttribute<NullTest> notNullTimestamp()
+	{
+		return finder.notNullTimestamp();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_BYTE **/
+	public static ByteAttribute<NullTest> notNullByte()
+	{
+		return finder.notNullByte();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_DATE **/
+	public static DateAttribute<NullTest> notNullDate()
+	{
+		return finder.notNullDate();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_FLOAT **/
+	public static FloatAttribute<NullTest> notNullFloat()
+	{
+		return finder.notNullFloat();
+	}
+
+	/** maps to NULL_TEST.NOT_NULL_SHORT **/
+	public static ShortAttribute<NullTest> notNullShort()
+	{
+		return finder.notNullShort();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_STRING **/
+	public static StringAttribute<NullTest> noDefaultNullString()
+	{
+		return finder.noDefaultNullString();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_BOOLEAN **/
+	public static BooleanAttribute<NullTest> noDefaultNullBoolean()
+	{
+		return finder.noDefaultNullBoolean();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_DOUBLE **/
+	public static DoubleAttribute<NullTest> noDefaultNullDouble()
+	{
+		return finder.noDefaultNullDouble();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_LONG **/
+	public static LongAttribute<NullTest> noDefaultNullLong()
+	{
+		return finder.noDefaultNullLong();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_INT **/
+	public static IntegerAttribute<NullTest> noDefaultNullInt()
+	{
+		return finder.noDefaultNullInt();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_CHAR **/
+	public static CharAttribute<NullTest> noDefaultNullChar()
+	{
+		return finder.noDefaultNullChar();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_TIMESTAMP **/
+	public static TimestampAttribute<NullTest> noDefaultNullTimestamp()
+	{
+		return finder.noDefaultNullTimestamp();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_BYTE **/
+	public static ByteAttribute<NullTest> noDefaultNullByte()
+	{
+		return finder.noDefaultNullByte();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_DATE **/
+	public static DateAttribute<NullTest> noDefaultNullDate()
+	{
+		return finder.noDefaultNullDate();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_FLOAT **/
+	public static FloatAttribute<NullTest> noDefaultNullFloat()
+	{
+		return finder.noDefaultNullFloat();
+	}
+
+	/** maps to NULL_TEST.NO_DEFAULT_SHORT **/
+	public static ShortAttribute<NullTest> noDefaultNullShort()
+	{
+		return finder.noDefaultNullShort();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_STRING **/
+	public static StringAttribute<NullTest> nullableString()
+	{
+		return finder.nullableString();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_BOOLEAN **/
+	public static BooleanAttribute<NullTest> nullableBoolean()
+	{
+		return finder.nullableBoolean();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_DOUBLE **/
+	public static DoubleAttribute<NullTest> nullableDouble()
+	{
+		return finder.nullableDouble();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_LONG **/
+	public static LongAttribute<NullTest> nullableLong()
+	{
+		return finder.nullableLong();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_INT **/
+	public static IntegerAttribute<NullTest> nullableInt()
+	{
+		return finder.nullableInt();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_CHAR **/
+	public static CharAttribute<NullTest> nullableChar()
+	{
+		return finder.nullableChar();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_TIMESTAMP **/
+	public static TimestampAttribute<NullTest> nullableTimestamp()
+	{
+		return finder.nullableTimestamp();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_BYTE **/
+	public static ByteAttribute<NullTest> nullableByte()
+	{
+		return finder.nullableByte();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_DATE **/
+	public static DateAttribute<NullTest> nullableDate()
+	{
+		return finder.nullableDate();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_FLOAT **/
+	public static FloatAttribute<NullTest> nullableFloat()
+	{
+		return finder.nullableFloat();
+	}
+
+	/** maps to NULL_TEST.NULLABLE_SHORT **/
+	public static ShortAttribute<NullTest> nullableShort()
+	{
+		return finder.nullableShort();
+	}
+
+	public static Operation eq(NullTest other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(notNullString());
+	}
+
+	public static NullTestSingleFinder<NullTest, Object, NullTest> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			notNullString()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			notNullString()
+			, notNullString()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[3];
+		result[0] = notNullDouble();
+		result[1] = noDefaultNullDouble();
+		result[2] = nullableDouble();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.NullTest");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
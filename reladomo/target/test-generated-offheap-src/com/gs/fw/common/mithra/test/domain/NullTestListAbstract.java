@@ -0,0 +1,370 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class NullTestListAbstract extends DelegatingList<NullTest> implements MithraTransactionalList<NullTest>
+{
+	public NullTestListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public NullTestListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public NullTestListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public NullTestListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public NullTest[] elements()
+	{
+		NullTest[] result = new NullTest[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public NullTestList intersection(NullTestList another)
+	{
+		return (NullTestList)super.intersection(another);
+	}
+
+	public NullTest getNullTestAt(int index)
+	{
+		return (NullTest)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NullTestFinder.getMithraObjectPortal();
+	}
+
+	public NullTestList getNonPersistentCopy()
+	{
+		NullTestList result = new NullTestList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public NullTestList asAdhoc()
+	{
+		return (NullTestList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<NullTest> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public NullTestList merge(MithraTransactionalList<NullTest> incoming, TopLevelMergeOptions<NullTest> mergeOptions)
+	{
+		return (NullTestList) super.merge(incoming, mergeOptions);
+	}
+
+	public NullTestList getDetachedCopy()
+	{
+		NullTestList result = new NullTestList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setNotNullString(String newValue)
+	{
+		zSetString(NullTestFinder.notNullString(), newValue);
+	}
+
+	public void setNotNullBoolean(boolean newValue)
+	{
+		zSetBoolean(NullTestFinder.notNullBoolean(), newValue);
+	}
+
+	public void setNotNullDouble(double newValue)
+	{
+		zSetDouble(NullTestFinder.notNullDouble(), newValue);
+	}
+
+	public void setNotNullLong(long newValue)
+	{
+		zSetLong(NullTestFinder.notNullLong(), newValue);
+	}
+
+	public void setNotNullInt(int newValue)
+	{
+		zSetInteger(NullTestFinder.notNullInt(), newValue);
+	}
+
+	public void setNotNullChar(char newValue)
+	{
+		zSetChar(NullTestFinder.notNullChar(), newValue);
+	}
+
+	public void setNotNullTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(NullTestFinder.notNullTimestamp(), newValue);
+	}
+
+	public void setNotNullByte(byte newValue)
+	{
+		zSetByte(NullTestFinder.notNullByte(), newValue);
+	}
+
+	public void setNotNullDate(Date newValue)
+	{
+		zSetDate(NullTestFinder.notNullDate(), newValue);
+	}
+
+	public void setNotNullFloat(float newValue)
+	{
+		zSetFloat(NullTestFinder.notNullFloat(), newValue);
+	}
+
+	public void setNotNullShort(short newValue)
+	{
+		zSetShort(NullTestFinder.notNullShort(), newValue);
+	}
+
+	public void setNoDefaultNullString(String newValue)
+	{
+		zSetString(NullTestFinder.noDefaultNullString(), newValue);
+	}
+
+	public void setNoDefaultNullBoolean(boolean newValue)
+	{
+		zSetBoolean(NullTestFinder.noDefaultNullBoolean(), newValue);
+	}
+
+	public void setNoDefaultNullDouble(double newValue)
+	{
+		zSetDouble(NullTestFinder.noDefaultNullDouble(), newValue);
+	}
+
+	public void setNoDefaultNullLong(long newValue)
+	{
+		zSetLong(NullTestFinder.noDefaultNullLong(), newValue);
+	}
+
+	public void setNoDefaultNullInt(int newValue)
+	{
+		zSetInteger(NullTestFinder.noDefaultNullInt(), newValue);
+	}
+
+	public void setNoDefaultNullChar(char newValue)
+	{
+		zSetChar(NullTestFinder.noDefaultNullChar(), newValue);
+	}
+
+	public void setNoDefaultNullTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(NullTestFinder.noDefaultNullTimestamp(), newValue);
+	}
+
+	public void setNoDefaultNullByte(byte newValue)
+	{
+		zSetByte(NullTestFinder.noDefaultNullByte(), newValue);
+	}
+
+	public void setNoDefaultNullDate(Date newValue)
+	{
+		zSetDate(NullTestFinder.noDefaultNullDate(), newValue);
+	}
+
+	public void setNoDefaultNullFloat(float newValue)
+	{
+		zSetFloat(NullTestFinder.noDefaultNullFloat(), newValue);
+	}
+
+	public void setNoDefaultNullShort(short newValue)
+	{
+		zSetShort(NullTestFinder.noDefaultNullShort(), newValue);
+	}
+
+	public void setNullableString(String newValue)
+	{
+		zSetString(NullTestFinder.nullableString(), newValue);
+	}
+
+	public void setNullableBoolean(boolean newValue)
+	{
+		zSetBoolean(NullTestFinder.nullableBoolean(), newValue);
+	}
+
+	public void setNullableDouble(double newValue)
+	{
+		zSetDouble(NullTestFinder.nullableDouble(), newValue);
+	}
+
+	public void setNullableLong(long newValue)
+	{
+		zSetLong(NullTestFinder.nullableLong(), newValue);
+	}
+
+	public void setNullableInt(int newValue)
+	{
+		zSetInteger(NullTestFinder.nullableInt(), newValue);
+	}
+
+	public void setNullableChar(char newValue)
+	{
+		zSetChar(NullTestFinder.nullableChar(), newValue);
+	}
+
+	public void setNullableTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(NullTestFinder.nullableTimestamp(), newValue);
+	}
+
+	public void setNullableByte(byte newValue)
+	{
+		zSetByte(NullTestFinder.nullableByte(), newValue);
+	}
+
+	public void setNullableDate(Date newValue)
+	{
+		zSetDate(NullTestFinder.nullableDate(), newValue);
+	}
+
+	public void setNullableFloat(float newValue)
+	{
+		zSetFloat(NullTestFinder.nullableFloat(), newValue);
+	}
+
+	public void setNullableShort(short newValue)
+	{
+		zSetShort(NullTestFinder.nullableShort(), newValue);
+	}
+
+	public void setNoDefaultNullBooleanNull()
+	{
+		zSetAttributeNull(NullTestFinder.noDefaultNullBoolean());
+	}
+
+	public void setNoDefaultNullDoubleNull()
+	{
+		zSetAttributeNull(NullTestFinder.noDefaultNullDouble());
+	}
+
+	public void setNoDefaultNullLongNull()
+	{
+		zSetAttributeNull(NullTestFinder.noDefaultNullLong());
+	}
+
+	public void setNoDefaultNullIntNull()
+	{
+		zSetAttributeNull(NullTestFinder.noDefaultNullInt());
+	}
+
+	public void setNoDefaultNullCharNull()
+	{
+		zSetAttributeNull(NullTestFinder.noDefaultNullChar());
+	}
+
+	public void setNoDefaultNullByteNull()
+	{
+		zSetAttributeNull(NullTestFinder.noDefaultNullByte());
+	}
+
+	public void setNoDefaultNullFloatNull()
+	{
+		zSetAttributeNull(NullTestFinder.noDefaultNullFloat());
+	}
+
+	public void setNoDefaultNullShortNull()
+	{
+		zSetAttributeNull(NullTestFinder.noDefaultNullShort());
+	}
+
+	public void setNullableBooleanNull()
+	{
+		zSetAttributeNull(NullTestFinder.nullableBoolean());
+	}
+
+	public void setNullableDoubleNull()
+	{
+		zSetAttributeNull(NullTestFinder.nullableDouble());
+	}
+
+	public void setNullableLongNull()
+	{
+		zSetAttributeNull(NullTestFinder.nullableLong());
+	}
+
+	public void setNullableIntNull()
+	{
+		zSetAttributeNull(NullTestFinder.nullableInt());
+	}
+
+	public void setNullableCharNull()
+	{
+		zSetAttributeNull(NullTestFinder.nullableChar());
+	}
+
+	public void setNullableByteNull()
+	{
+		zSetAttributeNull(NullTestFinder.nullableByte());
+	}
+
+	public void setNullableFloatNull()
+	{
+		zSetAttributeNull(NullTestFinder.nullableFloat());
+	}
+
+	public void setNullableShortNull()
+	{
+		zSetAttributeNull(NullTestFinder.nullableShort());
+	}
+}
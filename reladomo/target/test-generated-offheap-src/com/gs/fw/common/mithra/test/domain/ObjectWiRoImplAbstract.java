@@ -0,0 +1,271 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ObjectWiRoImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ObjectWiRoImpl.class.getName());
+	public ObjectWiRoImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ObjectWiRoImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (ObjectWiRoImpl) super.getDetachedCopy();
+	}
+
+	public ObjectWiRoImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		ObjectWiRoImpl result = (ObjectWiRoImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ObjectWiRoImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ObjectWiRoImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ObjectWiRoImpl zFindOriginal()
+	{
+		ObjectWiRoData data = (ObjectWiRoData) this.currentData;
+		Operation op;
+		op = ObjectWiRoFinder.objectId().eq(data.getObjectId());
+		return (ObjectWiRoImpl) ObjectWiRoFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ObjectWiRoData();
+	}
+
+	protected void zSetFromObjectWiRoData( ObjectWiRoData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromObjectWiRoData( ObjectWiRoData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isObjectDateNull()
+	{
+		return ((ObjectWiRoData) this.zSynchronizedGetData()).isObjectDateNull();
+	}
+
+	public Timestamp getObjectDate()
+	{
+		ObjectWiRoData data = (ObjectWiRoData) this.zSynchronizedGetData();
+		return data.getObjectDate();
+	}
+
+	public void setObjectDate(Timestamp newValue)
+	{
+		zSetTimestamp(ObjectWiRoFinder.objectDate(), newValue, false, false );
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return ((ObjectWiRoData) this.zSynchronizedGetData()).isObjectIdNull();
+	}
+
+	public int getObjectId()
+	{
+		ObjectWiRoData data = (ObjectWiRoData) this.zSynchronizedGetData();
+		return data.getObjectId();
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(ObjectWiRoFinder.objectId(), newValue, true, false ,false);
+	}
+
+	public boolean isObjectValueNull()
+	{
+		return ((ObjectWiRoData) this.zSynchronizedGetData()).isObjectValueNull();
+	}
+
+	public int getObjectValue()
+	{
+		ObjectWiRoData data = (ObjectWiRoData) this.zSynchronizedGetData();
+		if (data.isObjectValueNull()) MithraNullPrimitiveException.throwNew("objectValue", data);
+		return data.getObjectValue();
+	}
+
+	public void setObjectValue(int newValue)
+	{
+		zSetInteger(ObjectWiRoFinder.objectValue(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ObjectWiRoFinder.objectValue(), false);
+	}
+
+	public void setObjectValueNull()
+	{
+		zNullify(ObjectWiRoFinder.objectValue(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ObjectWiRoData _newData = (ObjectWiRoData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ObjectWiRoData _newData = (ObjectWiRoData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ObjectWiRoData _newData = (ObjectWiRoData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ObjectWiRoImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ObjectWiRoImpl original = (ObjectWiRoImpl) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ObjectWiRoFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ObjectWiRoFinder.getMithraObjectPortal();
+	}
+
+	public ObjectWiRoImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, ObjectWiRoFinder.objectDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ObjectWiRoFinder.objectValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ObjectWiRoFinder.objectId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ObjectWiRoImplAbstract result = (ObjectWiRoImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ObjectWiRoListImplAbstract extends DelegatingList<ObjectWiRo> implements MithraTransactionalList<ObjectWiRo>
+{
+	public ObjectWiRoListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ObjectWiRoListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ObjectWiRoListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ObjectWiRoListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ObjectWiRo[] elements()
+	{
+		ObjectWiRo[] result = new ObjectWiRo[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ObjectWiRoListImpl intersection(ObjectWiRoListImpl another)
+	{
+		return (ObjectWiRoListImpl)super.intersection(another);
+	}
+
+	public ObjectWiRoImpl getObjectWiRoAt(int index)
+	{
+		return (ObjectWiRoImpl)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ObjectWiRoFinder.getMithraObjectPortal();
+	}
+
+	public ObjectWiRoListImpl getNonPersistentCopy()
+	{
+		ObjectWiRoListImpl result = new ObjectWiRoListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ObjectWiRoListImpl asAdhoc()
+	{
+		return (ObjectWiRoListImpl) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ObjectWiRo> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ObjectWiRoListImpl merge(MithraTransactionalList<ObjectWiRo> incoming, TopLevelMergeOptions<ObjectWiRo> mergeOptions)
+	{
+		return (ObjectWiRoListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public ObjectWiRoListImpl getDetachedCopy()
+	{
+		ObjectWiRoListImpl result = new ObjectWiRoListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(ObjectWiRoFinder.objectId(), newValue);
+	}
+
+	public void setObjectDate(Timestamp newValue)
+	{
+		zSetTimestamp(ObjectWiRoFinder.objectDate(), newValue);
+	}
+
+	public void setObjectValue(int newValue)
+	{
+		zSetInteger(ObjectWiRoFinder.objectValue(), newValue);
+	}
+
+	public void setObjectValueNull()
+	{
+		zSetAttributeNull(ObjectWiRoFinder.objectValue());
+	}
+}
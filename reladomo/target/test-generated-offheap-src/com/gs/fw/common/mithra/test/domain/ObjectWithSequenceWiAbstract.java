@@ -0,0 +1,21 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ObjectWithSequenceWiAbstract
+{
+	Timestamp getCurrentDate();
+	void setCurrentDate(Timestamp newValue);
+	boolean isCurrentDateNull();
+	int getFirstId();
+	void setFirstId(int newValue);
+	boolean isFirstIdNull();
+	int getSomeValue();
+	void setSomeValue(int newValue);
+	boolean isSomeValueNull();
+	void setSomeValueNull();
+}
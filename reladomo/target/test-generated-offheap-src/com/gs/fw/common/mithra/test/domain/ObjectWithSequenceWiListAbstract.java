@@ -0,0 +1,10 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ObjectWithSequenceWiListAbstract extends List<ObjectWithSequenceWi>
+{
+	public void setCurrentDate(Timestamp newValue);
+	public void setFirstId(int newValue);
+	public void setSomeValue(int newValue);
+}
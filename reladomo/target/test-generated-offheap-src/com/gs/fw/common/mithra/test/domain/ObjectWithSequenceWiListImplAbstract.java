@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ObjectWithSequenceWiListImplAbstract extends DelegatingList<ObjectWithSequenceWi> implements MithraTransactionalList<ObjectWithSequenceWi>
+{
+	public ObjectWithSequenceWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ObjectWithSequenceWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ObjectWithSequenceWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ObjectWithSequenceWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ObjectWithSequenceWi[] elements()
+	{
+		ObjectWithSequenceWi[] result = new ObjectWithSequenceWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ObjectWithSequenceWiListImpl intersection(ObjectWithSequenceWiListImpl another)
+	{
+		return (ObjectWithSequenceWiListImpl)super.intersection(another);
+	}
+
+	public ObjectWithSequenceWiImpl getObjectWithSequenceWiAt(int index)
+	{
+		return (ObjectWithSequenceWiImpl)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ObjectWithSequenceWiFinder.getMithraObjectPortal();
+	}
+
+	public ObjectWithSequenceWiListImpl getNonPersistentCopy()
+	{
+		ObjectWithSequenceWiListImpl result = new ObjectWithSequenceWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ObjectWithSequenceWiListImpl asAdhoc()
+	{
+		return (ObjectWithSequenceWiListImpl) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ObjectWithSequenceWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ObjectWithSequenceWiListImpl merge(MithraTransactionalList<ObjectWithSequenceWi> incoming, TopLevelMergeOptions<ObjectWithSequenceWi> mergeOptions)
+	{
+		return (ObjectWithSequenceWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public ObjectWithSequenceWiListImpl getDetachedCopy()
+	{
+		ObjectWithSequenceWiListImpl result = new ObjectWithSequenceWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)ObjectWithSequenceWiFinder.firstId(), false, "ObjWithIntSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setFirstId(int newValue)
+	{
+		zSetInteger(ObjectWithSequenceWiFinder.firstId(), newValue);
+	}
+
+	public void setCurrentDate(Timestamp newValue)
+	{
+		zSetTimestamp(ObjectWithSequenceWiFinder.currentDate(), newValue);
+	}
+
+	public void setSomeValue(int newValue)
+	{
+		zSetInteger(ObjectWithSequenceWiFinder.someValue(), newValue);
+	}
+
+	public void setSomeValueNull()
+	{
+		zSetAttributeNull(ObjectWithSequenceWiFinder.someValue());
+	}
+}
@@ -0,0 +1,507 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class OptimisticOrderData
+implements MithraDataObject
+{
+	private boolean _versionIncremented;
+	private static final int _DIRTY_VERSION = -1;
+	private byte isNullBits0 = 0;
+	private String description;
+	private Timestamp orderDate;
+	private int orderId;
+	private String state;
+	private String trackingId;
+	private int userId;
+	private int version;
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.getOrderDate() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStateNull()
+	{
+		return this.getState() == null;
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.getTrackingId() == null;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isVersionNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.description);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.orderDate);
+		out.writeInt(this.orderId);
+		out.writeObject(this.state);
+		out.writeObject(this.trackingId);
+		out.writeInt(this.userId);
+		out.writeInt(this.version);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, OptimisticOrderFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.orderDate;
+	}
+
+	public long zGetOrderDateAsLong()
+	{
+		if (orderDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return orderDate.getTime();
+	}
+
+	public void setOrderDate(Timestamp value)
+	{
+		this.orderDate = TimestampPool.getInstance().getOrAddToCache(value, OptimisticOrderFinder.isFullCache(), OptimisticOrderFinder.isOffHeap());
+	}
+
+	public void setOrderDateNull()
+	{
+		this.setOrderDate(null);
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.orderId = value;
+	}
+
+	public void setOrderIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getState()
+	{
+		return this.state;
+	}
+
+	public int zGetStateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+	}
+
+	public void setState(String value)
+	{
+		this.state = StringPool.getInstance().getOrAddToCache(value, OptimisticOrderFinder.isFullCache());
+	}
+
+	public void setStateNull()
+	{
+		this.setState(null);
+	}
+
+	public String getTrackingId()
+	{
+		return this.trackingId;
+	}
+
+	public int zGetTrackingIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trackingId);
+	}
+
+	public void setTrackingId(String value)
+	{
+		this.trackingId = StringPool.getInstance().getOrAddToCache(value, OptimisticOrderFinder.isFullCache());
+	}
+
+	public void setTrackingIdNull()
+	{
+		this.setTrackingId(null);
+	}
+
+	public int getUserId()
+	{
+		return this.userId;
+	}
+
+	public void setUserId(int value)
+	{
+		this.userId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getVersion()
+	{
+		return this.version;
+	}
+
+	public void setVersion(int value)
+	{
+		this.version = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public void setUserIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setVersionNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(OptimisticOrderData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.description = this.description;
+		copy.orderDate = this.orderDate;
+		copy.orderId = this.orderId;
+		copy.state = this.state;
+		copy.trackingId = this.trackingId;
+		copy.userId = this.userId;
+		copy.version = this.version;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), OptimisticOrderFinder.isFullCache());
+		this.orderDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), OptimisticOrderFinder.isFullCache(), OptimisticOrderFinder.isOffHeap());
+		this.orderId = in.readInt();
+		this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), OptimisticOrderFinder.isFullCache());
+		this.trackingId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), OptimisticOrderFinder.isFullCache());
+		this.userId = in.readInt();
+		this.version = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final OptimisticOrderData otherData = (OptimisticOrderData) other;
+		if (getOrderId() != otherData.getOrderId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.orderId);
+		out.writeBoolean(_versionIncremented);
+		out.writeInt(this.version);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.orderId = in.readInt();
+		_versionIncremented = in.readBoolean();
+		this.version = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public boolean mustIncrementVersion()
+	{
+		if (!_versionIncremented)
+		{
+			_versionIncremented = true;
+			return true;
+		}
+
+		return false;
+	}
+
+	public int zGetPersistedVersion()
+	{
+		if (_versionIncremented)
+		{
+			return version - 1;
+		}
+
+		return version;
+	}
+
+	public void zMarkDirty()
+	{
+		version = _DIRTY_VERSION;
+	}
+
+	public boolean zIsDirty()
+	{
+		return version == _DIRTY_VERSION;
+	}
+
+	public int _oldgetVersion()
+	{
+		if (_versionIncremented)
+		{
+			return version - 1;
+		}
+
+		return version;
+	}
+
+	public boolean _oldisVersionNull()
+	{
+		return false;
+	}
+
+	public void zSetUpdated()
+	{
+		_versionIncremented = false;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final OptimisticOrderData optimisticOrderData = (OptimisticOrderData) newData;
+		this.setDescription(optimisticOrderData.getDescription());
+		this.setOrderDate(optimisticOrderData.getOrderDate());
+		this.setState(optimisticOrderData.getState());
+		this.setTrackingId(optimisticOrderData.getTrackingId());
+		this.setUserId(optimisticOrderData.getUserId());
+		if (optimisticOrderData.isUserIdNull()) this.setUserIdNull();
+		this.setVersion(optimisticOrderData.getVersion());
+		if (optimisticOrderData.isVersionNull()) this.setVersionNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final OptimisticOrderData other = (OptimisticOrderData) newData;
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+		{
+			return true;
+		}
+
+		if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+		{
+			return true;
+		}
+
+		if (!isTrackingIdNull() ? !getTrackingId().equals(other.getTrackingId()) : !other.isTrackingIdNull())
+		{
+			return true;
+		}
+
+		if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+		{
+			return true;
+		}
+
+		if ( isVersionNull() != other.isVersionNull() || getVersion() != other.getVersion())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		OptimisticOrderData copy = new OptimisticOrderData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		OptimisticOrderData copy = new OptimisticOrderData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "orderId: "+(""+getOrderId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.OptimisticOrderData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return OptimisticOrderFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return OptimisticOrderFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.OptimisticOrderData";
+	}
+}
@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OptimisticOrderListAbstract extends DelegatingList<OptimisticOrder> implements MithraTransactionalList<OptimisticOrder>
+{
+	public OptimisticOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OptimisticOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OptimisticOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OptimisticOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OptimisticOrder[] elements()
+	{
+		OptimisticOrder[] result = new OptimisticOrder[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OptimisticOrderList intersection(OptimisticOrderList another)
+	{
+		return (OptimisticOrderList)super.intersection(another);
+	}
+
+	public OptimisticOrder getOptimisticOrderAt(int index)
+	{
+		return (OptimisticOrder)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OptimisticOrderFinder.getMithraObjectPortal();
+	}
+
+	public OptimisticOrderList getNonPersistentCopy()
+	{
+		OptimisticOrderList result = new OptimisticOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OptimisticOrderList asAdhoc()
+	{
+		return (OptimisticOrderList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<OptimisticOrder> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OptimisticOrderList merge(MithraTransactionalList<OptimisticOrder> incoming, TopLevelMergeOptions<OptimisticOrder> mergeOptions)
+	{
+		return (OptimisticOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public OptimisticOrderList getDetachedCopy()
+	{
+		OptimisticOrderList result = new OptimisticOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OptimisticOrderFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OptimisticOrderFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OptimisticOrderFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OptimisticOrderFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OptimisticOrderFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(OptimisticOrderFinder.trackingId(), newValue);
+	}
+
+	public void setVersion(int newValue)
+	{
+		zSetInteger(OptimisticOrderFinder.version(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(OptimisticOrderFinder.userId());
+	}
+
+	public void setVersionNull()
+	{
+		zSetAttributeNull(OptimisticOrderFinder.version());
+	}
+}
@@ -0,0 +1,425 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OptimisticOrderWithTimestampAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OptimisticOrderWithTimestamp.class.getName());
+	public OptimisticOrderWithTimestampAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OptimisticOrderWithTimestamp getDetachedCopy() throws MithraBusinessException
+	{
+		return (OptimisticOrderWithTimestamp) super.getDetachedCopy();
+	}
+
+	public OptimisticOrderWithTimestamp getNonPersistentCopy() throws MithraBusinessException
+	{
+		OptimisticOrderWithTimestamp result = (OptimisticOrderWithTimestamp) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	protected MithraDataObject zCheckOptimisticDirty(MithraDataObject d, TransactionalBehavior behavior)
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) d;
+		if (data.zIsDirty())
+		{
+			this.zRefreshWithLockForRead(behavior);
+			data = (OptimisticOrderWithTimestampData) behavior.getCurrentDataForRead(this);
+		}
+
+		return data;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		((OptimisticOrderWithTimestampData)behavior.getCurrentDataForWrite(this)).setUpdateTime(new Timestamp(MithraManagerProvider.getMithraManager().getCurrentProcessingTime()));
+		behavior.insert(this);
+	}
+
+	public OptimisticOrderWithTimestamp copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OptimisticOrderWithTimestamp) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public void zSetInserted()
+	{
+		MithraDataObject data;
+		boolean validTransactionalState = this.transactionalState != null;
+		if(validTransactionalState)
+		{
+			data = this.transactionalState.getTxData();
+			if (data == null)
+			{
+				data = this.currentData.copy();
+				this.transactionalState.setTxData(data);
+			}
+		}
+		else
+		{
+			data = this.currentData;
+		}
+
+		((OptimisticOrderWithTimestampData)data).zSetUpdated();
+	}
+
+	public void zSetUpdated(List<AttributeUpdateWrapper> updates)
+	{
+		((OptimisticOrderWithTimestampData)this.transactionalState.getTxData()).zSetUpdated();
+	}
+
+	protected void zIncrementOptimiticAttribute(TransactionalBehavior behavior, MithraDataObject d)
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) d;
+		if (data.mustIncrementVersion())
+		{
+			AttributeUpdateWrapper versionUpdateWrapper =
+			new TimestampUpdateWrapper(
+				OptimisticOrderWithTimestampFinder.updateTime(),
+				data, new Timestamp(MithraManagerProvider.getMithraManager().getCurrentProcessingTime()));
+			behavior.update(this, versionUpdateWrapper, false, true);
+		}
+	}
+
+	public void zApplyUpdateWrappers(List updateWrappers)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		((OptimisticOrderWithTimestampData)behavior.getCurrentDataForWrite(this)).mustIncrementVersion();
+		behavior.remoteUpdate(this, updateWrappers);
+	}
+
+	public void zApplyUpdateWrappersForBatch(List updateWrappers)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		behavior.remoteUpdateForBatch(this, updateWrappers);
+		((OptimisticOrderWithTimestampData)this.transactionalState.getTxData()).mustIncrementVersion();
+	}
+
+	public void zMarkDirty()
+	{
+		if (this.currentData != null) ((OptimisticOrderWithTimestampData)this.currentData).zMarkDirty();
+	}
+
+	public OptimisticOrderWithTimestamp zFindOriginal()
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) this.currentData;
+		Operation op;
+		op = OptimisticOrderWithTimestampFinder.orderId().eq(data.getOrderId());
+		return OptimisticOrderWithTimestampFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OptimisticOrderWithTimestampData();
+	}
+
+	protected void zSetFromOptimisticOrderWithTimestampData( OptimisticOrderWithTimestampData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOptimisticOrderWithTimestampData( OptimisticOrderWithTimestampData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((OptimisticOrderWithTimestampData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(OptimisticOrderWithTimestampFinder.description(), newValue, false, true );
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return ((OptimisticOrderWithTimestampData) this.zSynchronizedGetData()).isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) this.zSynchronizedGetData();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OptimisticOrderWithTimestampFinder.orderDate(), newValue, false, true );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OptimisticOrderWithTimestampData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OptimisticOrderWithTimestampFinder.orderId(), newValue, true, true ,false);
+	}
+
+	public boolean isStateNull()
+	{
+		return ((OptimisticOrderWithTimestampData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OptimisticOrderWithTimestampFinder.state(), newValue, false, true );
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return ((OptimisticOrderWithTimestampData) this.zSynchronizedGetData()).isTrackingIdNull();
+	}
+
+	public String getTrackingId()
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) this.zSynchronizedGetData();
+		return data.getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		zSetString(OptimisticOrderWithTimestampFinder.trackingId(), newValue, false, true );
+	}
+
+	public boolean isUpdateTimeNull()
+	{
+		return ((OptimisticOrderWithTimestampData) this.zSynchronizedGetData()).isUpdateTimeNull();
+	}
+
+	public Timestamp getUpdateTime()
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) this.zSynchronizedGetData();
+		return data.getUpdateTime();
+	}
+
+	public void setUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(OptimisticOrderWithTimestampFinder.updateTime(), newValue, true, false );
+	}
+
+	public boolean isUserIdNull()
+	{
+		return ((OptimisticOrderWithTimestampData) this.zSynchronizedGetData()).isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		OptimisticOrderWithTimestampData data = (OptimisticOrderWithTimestampData) this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OptimisticOrderWithTimestampFinder.userId(), newValue, false, true ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OptimisticOrderWithTimestampFinder.userId(), false);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(OptimisticOrderWithTimestampFinder.userId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OptimisticOrderWithTimestampData _newData = (OptimisticOrderWithTimestampData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OptimisticOrderWithTimestampData _newData = (OptimisticOrderWithTimestampData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OptimisticOrderWithTimestampData _newData = (OptimisticOrderWithTimestampData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public OptimisticOrderWithTimestamp zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OptimisticOrderWithTimestamp original = (OptimisticOrderWithTimestamp) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OptimisticOrderWithTimestampFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OptimisticOrderWithTimestampFinder.getMithraObjectPortal();
+	}
+
+	public OptimisticOrderWithTimestamp getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, OptimisticOrderWithTimestampFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, OptimisticOrderWithTimestampFinder.orderDate(), false);
+		changed |= zUpdateString(behavior, data, newData, OptimisticOrderWithTimestampFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, OptimisticOrderWithTimestampFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OptimisticOrderWithTimestampFinder.userId(), false);
+		if (changed) zIncrementOptimiticAttribute(behavior, data);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OptimisticOrderWithTimestampFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OptimisticOrderWithTimestampAbstract result = (OptimisticOrderWithTimestampAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
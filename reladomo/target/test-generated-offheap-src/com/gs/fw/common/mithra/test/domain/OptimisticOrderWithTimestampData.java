@@ -0,0 +1,517 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class OptimisticOrderWithTimestampData
+implements MithraDataObject
+{
+	private boolean _versionIncremented;
+	private static final Timestamp _DIRTY_VERSION = new Timestamp(0);
+	private byte isNullBits0 = 0;
+	private String description;
+	private Timestamp orderDate;
+	private int orderId;
+	private String state;
+	private String trackingId;
+	private Timestamp updateTime;
+	private int userId;
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.getOrderDate() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStateNull()
+	{
+		return this.getState() == null;
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.getTrackingId() == null;
+	}
+
+	public boolean isUpdateTimeNull()
+	{
+		return this.getUpdateTime() == null;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.description);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.orderDate);
+		out.writeInt(this.orderId);
+		out.writeObject(this.state);
+		out.writeObject(this.trackingId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.updateTime);
+		out.writeInt(this.userId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this._oldupdateTime);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	private Timestamp _oldupdateTime;
+	public boolean _oldisUpdateTimeNull()
+	{
+		return this._oldgetUpdateTime() == null;
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, OptimisticOrderWithTimestampFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.orderDate;
+	}
+
+	public long zGetOrderDateAsLong()
+	{
+		if (orderDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return orderDate.getTime();
+	}
+
+	public void setOrderDate(Timestamp value)
+	{
+		this.orderDate = TimestampPool.getInstance().getOrAddToCache(value, OptimisticOrderWithTimestampFinder.isFullCache(), OptimisticOrderWithTimestampFinder.isOffHeap());
+	}
+
+	public void setOrderDateNull()
+	{
+		this.setOrderDate(null);
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.orderId = value;
+	}
+
+	public void setOrderIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getState()
+	{
+		return this.state;
+	}
+
+	public int zGetStateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+	}
+
+	public void setState(String value)
+	{
+		this.state = StringPool.getInstance().getOrAddToCache(value, OptimisticOrderWithTimestampFinder.isFullCache());
+	}
+
+	public void setStateNull()
+	{
+		this.setState(null);
+	}
+
+	public String getTrackingId()
+	{
+		return this.trackingId;
+	}
+
+	public int zGetTrackingIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(trackingId);
+	}
+
+	public void setTrackingId(String value)
+	{
+		this.trackingId = StringPool.getInstance().getOrAddToCache(value, OptimisticOrderWithTimestampFinder.isFullCache());
+	}
+
+	public void setTrackingIdNull()
+	{
+		this.setTrackingId(null);
+	}
+
+	public Timestamp getUpdateTime()
+	{
+		return this.updateTime;
+	}
+
+	public long zGetUpdateTimeAsLong()
+	{
+		if (updateTime == null) return TimestampPool.OFF_HEAP_NULL;
+		return updateTime.getTime();
+	}
+
+	public void setUpdateTime(Timestamp value)
+	{
+		this.updateTime = TimestampPool.getInstance().getOrAddToCache(value, OptimisticOrderWithTimestampFinder.isFullCache(), OptimisticOrderWithTimestampFinder.isOffHeap());
+	}
+
+	public void setUpdateTimeNull()
+	{
+		this.setUpdateTime(null);
+	}
+
+	public int getUserId()
+	{
+		return this.userId;
+	}
+
+	public void setUserId(int value)
+	{
+		this.userId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public Timestamp _oldgetUpdateTime()
+	{
+		return _oldupdateTime;
+	}
+
+	public void _oldsetUpdateTime(Timestamp value)
+	{
+		this._oldupdateTime = value;
+	}
+
+	public void _oldsetUpdateTimeNull()
+	{
+		this._oldsetUpdateTime(null);
+	}
+
+	public void setUserIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(OptimisticOrderWithTimestampData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.description = this.description;
+		copy.orderDate = this.orderDate;
+		copy.orderId = this.orderId;
+		copy.state = this.state;
+		copy.trackingId = this.trackingId;
+		copy.updateTime = this.updateTime;
+		copy.userId = this.userId;
+		copy._oldupdateTime = this._oldupdateTime;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), OptimisticOrderWithTimestampFinder.isFullCache());
+		this.orderDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), OptimisticOrderWithTimestampFinder.isFullCache(), OptimisticOrderWithTimestampFinder.isOffHeap());
+		this.orderId = in.readInt();
+		this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), OptimisticOrderWithTimestampFinder.isFullCache());
+		this.trackingId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), OptimisticOrderWithTimestampFinder.isFullCache());
+		this.updateTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), OptimisticOrderWithTimestampFinder.isFullCache(), OptimisticOrderWithTimestampFinder.isOffHeap());
+		this.userId = in.readInt();
+		this._oldupdateTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), OptimisticOrderWithTimestampFinder.isFullCache(), OptimisticOrderWithTimestampFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final OptimisticOrderWithTimestampData otherData = (OptimisticOrderWithTimestampData) other;
+		if (getOrderId() != otherData.getOrderId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.orderId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this._oldupdateTime);
+		out.writeBoolean(_versionIncremented);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.orderId = in.readInt();
+		this._oldupdateTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), OptimisticOrderWithTimestampFinder.isFullCache(), OptimisticOrderWithTimestampFinder.isOffHeap());
+		this._oldupdateTime = TimestampPool.getInstance().getOrAddToCache(this._oldupdateTime, OptimisticOrderWithTimestampFinder.isFullCache());
+		_versionIncremented = in.readBoolean();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public boolean mustIncrementVersion()
+	{
+		if (!_versionIncremented)
+		{
+			_versionIncremented = true;
+			return true;
+		}
+
+		return false;
+	}
+
+	public Timestamp zGetPersistedVersion()
+	{
+		return _oldupdateTime;
+	}
+
+	public void zMarkDirty()
+	{
+		updateTime = _DIRTY_VERSION;
+	}
+
+	public boolean zIsDirty()
+	{
+		return updateTime == _DIRTY_VERSION;
+	}
+
+	public void zSetUpdated()
+	{
+		_versionIncremented = false;
+		this._oldupdateTime = this.updateTime;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final OptimisticOrderWithTimestampData optimisticOrderWithTimestampData = (OptimisticOrderWithTimestampData) newData;
+		this.setDescription(optimisticOrderWithTimestampData.getDescription());
+		this.setOrderDate(optimisticOrderWithTimestampData.getOrderDate());
+		this.setState(optimisticOrderWithTimestampData.getState());
+		this.setTrackingId(optimisticOrderWithTimestampData.getTrackingId());
+		this.setUpdateTime(optimisticOrderWithTimestampData.getUpdateTime());
+		this.setUserId(optimisticOrderWithTimestampData.getUserId());
+		if (optimisticOrderWithTimestampData.isUserIdNull()) this.setUserIdNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final OptimisticOrderWithTimestampData other = (OptimisticOrderWithTimestampData) newData;
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isOrderDateNull() ? !getOrderDate().equals(other.getOrderDate()) : !other.isOrderDateNull())
+		{
+			return true;
+		}
+
+		if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+		{
+			return true;
+		}
+
+		if (!isTrackingIdNull() ? !getTrackingId().equals(other.getTrackingId()) : !other.isTrackingIdNull())
+		{
+			return true;
+		}
+
+		if (!isUpdateTimeNull() ? !getUpdateTime().equals(other.getUpdateTime()) : !other.isUpdateTimeNull())
+		{
+			return true;
+		}
+
+		if ( isUserIdNull() != other.isUserIdNull() || getUserId() != other.getUserId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		OptimisticOrderWithTimestampData copy = new OptimisticOrderWithTimestampData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		OptimisticOrderWithTimestampData copy = new OptimisticOrderWithTimestampData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "orderId: "+(""+getOrderId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.OptimisticOrderWithTimestampData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return OptimisticOrderWithTimestampFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return OptimisticOrderWithTimestampFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.OptimisticOrderWithTimestampData";
+	}
+}
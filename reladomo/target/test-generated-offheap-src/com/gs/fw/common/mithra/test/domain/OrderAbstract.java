@@ -0,0 +1,2750 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+implements
+Orderable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Order.class.getName());
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final RelationshipHashStrategy fororderStatusWithInterfaces = new OrderStatusWithInterfacesRhs();
+	private static final RelationshipHashStrategy forparentToChildAsChild = new ParentToChildAsChildRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderData _castedSrcData = (OrderData) _srcData;
+			OrderStatusData _castedTargetData = (OrderStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderData _castedSrcData = (OrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderStatusWithInterfacesRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderData _castedSrcData = (OrderData) _srcData;
+			OrderStatusWiData _castedTargetData = (OrderStatusWiData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderData _castedSrcData = (OrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ParentToChildAsChildRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderData _castedSrcData = (OrderData) _srcData;
+			OrderParentToChildrenData _castedTargetData = (OrderParentToChildrenData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getChildOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderData _castedSrcData = (OrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public OrderAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Order getDetachedCopy() throws MithraBusinessException
+	{
+		return (Order) super.getDetachedCopy();
+	}
+
+	public Order getNonPersistentCopy() throws MithraBusinessException
+	{
+		Order result = (Order) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Order copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Order) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Order zFindOriginal()
+	{
+		OrderData data = (OrderData) this.currentData;
+		Operation op;
+		op = OrderFinder.orderId().eq(data.getOrderId());
+		return OrderFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		if(isOrderStatusModifiedSinceDetachment()) return true;
+		if(isItemsWithInterfacesModifiedSinceDetachment()) return true;
+		if(isOrderStatusWithInterfacesModifiedSinceDetachment()) return true;
+		if(isParentToChildAsParentModifiedSinceDetachment()) return true;
+		if(isParentToChildAsChildModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderData();
+	}
+
+	protected void zSetFromOrderData( OrderData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderData( OrderData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((OrderData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		OrderData data = (OrderData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(OrderFinder.description(), newValue, false, false );
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return ((OrderData) this.zSynchronizedGetData()).isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		OrderData data = (OrderData) this.zSynchronizedGetData();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderFinder.orderDate(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OrderData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OrderData data = (OrderData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(OrderFinder.orderId(), newValue, true, false ,false);
+		if (d == null) return;
+		OrderData data = (OrderData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			OrderItemList items =
+			(OrderItemList ) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+
+			OrderStatus orderStatus =
+			(OrderStatus ) data.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.setOrderId(newValue);
+			}
+
+			OrderItemWiListImpl itemsWithInterfaces =
+			(OrderItemWiListImpl ) data.getItemsWithInterfaces();
+			if (itemsWithInterfaces != null)
+			{
+				itemsWithInterfaces.setOrderId(newValue);
+			}
+
+			OrderStatusWiImpl orderStatusWithInterfaces =
+			(OrderStatusWiImpl ) data.getOrderStatusWithInterfaces();
+			if (orderStatusWithInterfaces != null)
+			{
+				orderStatusWithInterfaces.setOrderId(newValue);
+			}
+
+			OrderParentToChildrenList parentToChildAsParent =
+			(OrderParentToChildrenList ) data.getParentToChildAsParent();
+			if (parentToChildAsParent != null)
+			{
+				parentToChildAsParent.setParentOrderId(newValue);
+			}
+
+			OrderParentToChildren parentToChildAsChild =
+			(OrderParentToChildren ) data.getParentToChildAsChild();
+			if (parentToChildAsChild != null)
+			{
+				parentToChildAsChild.setChildOrderId(newValue);
+			}
+		}
+	}
+
+	public boolean isStateNull()
+	{
+		return ((OrderData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		OrderData data = (OrderData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OrderFinder.state(), newValue, false, false );
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return ((OrderData) this.zSynchronizedGetData()).isTrackingIdNull();
+	}
+
+	public String getTrackingId()
+	{
+		OrderData data = (OrderData) this.zSynchronizedGetData();
+		return data.getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		zSetString(OrderFinder.trackingId(), newValue, false, false );
+	}
+
+	public boolean isUserIdNull()
+	{
+		return ((OrderData) this.zSynchronizedGetData()).isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		OrderData data = (OrderData) this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderFinder.userId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderFinder.userId(), false);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(OrderFinder.userId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderData _newData = (OrderData) _data;
+		{
+			OrderItemList items =
+			(OrderItemList) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			OrderStatus orderStatus =
+			this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeDelete();
+			}
+		}
+		else
+		{
+			OrderStatus orderStatus =
+			(OrderStatus) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				OrderStatus _existing =
+				this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+
+		{
+			OrderItemWiListImpl itemsWithInterfaces =
+			(OrderItemWiListImpl) _newData.getItemsWithInterfaces();
+			if (itemsWithInterfaces != null)
+			{
+				itemsWithInterfaces.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+
+		if (_newData.getOrderStatusWithInterfaces() instanceof NulledRelation)
+		{
+			OrderStatusWiImpl orderStatusWithInterfaces =
+			(OrderStatusWiImpl) this.getOrderStatusWithInterfaces();
+			if (orderStatusWithInterfaces != null)
+			{
+				orderStatusWithInterfaces.cascadeDelete();
+			}
+		}
+		else
+		{
+			OrderStatusWiImpl orderStatusWithInterfaces =
+			(OrderStatusWiImpl) _newData.getOrderStatusWithInterfaces();
+			if (orderStatusWithInterfaces != null)
+			{
+				OrderStatusWiImpl _existing =
+				(OrderStatusWiImpl) this.getOrderStatusWithInterfaces();
+				if (_existing == null)
+				{
+					orderStatusWithInterfaces.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatusWithInterfaces.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatusWithInterfaces.zGetTxDataForRead());
+				}
+			}
+		}
+
+		{
+			OrderParentToChildrenList parentToChildAsParent =
+			(OrderParentToChildrenList) _newData.getParentToChildAsParent();
+			if (parentToChildAsParent != null)
+			{
+				parentToChildAsParent.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+
+		if (_newData.getParentToChildAsChild() instanceof NulledRelation)
+		{
+			OrderParentToChildren parentToChildAsChild =
+			this.getParentToChildAsChild();
+			if (parentToChildAsChild != null)
+			{
+				parentToChildAsChild.cascadeDelete();
+			}
+		}
+		else
+		{
+			OrderParentToChildren parentToChildAsChild =
+			(OrderParentToChildren) _newData.getParentToChildAsChild();
+			if (parentToChildAsChild != null)
+			{
+				OrderParentToChildren _existing =
+				this.getParentToChildAsChild();
+				if (_existing == null)
+				{
+					parentToChildAsChild.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(parentToChildAsChild.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(parentToChildAsChild.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderData _newData = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((OrderItemList)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((OrderStatus)_newData.getOrderStatus()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getItemsWithInterfaces() != null && !(_newData.getItemsWithInterfaces() instanceof NulledRelation))
+		{
+			((OrderItemWiListImpl)_newData.getItemsWithInterfaces()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatusWithInterfaces() != null && !(_newData.getOrderStatusWithInterfaces() instanceof NulledRelation))
+		{
+			((OrderStatusWiImpl)_newData.getOrderStatusWithInterfaces()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getParentToChildAsParent() != null && !(_newData.getParentToChildAsParent() instanceof NulledRelation))
+		{
+			((OrderParentToChildrenList)_newData.getParentToChildAsParent()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getParentToChildAsChild() != null && !(_newData.getParentToChildAsChild() instanceof NulledRelation))
+		{
+			((OrderParentToChildren)_newData.getParentToChildAsChild()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _newData = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((OrderItemList)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((OrderStatus)_newData.getOrderStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getItemsWithInterfaces() != null && !(_newData.getItemsWithInterfaces() instanceof NulledRelation))
+		{
+			((OrderItemWiListImpl)_newData.getItemsWithInterfaces()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatusWithInterfaces() != null && !(_newData.getOrderStatusWithInterfaces() instanceof NulledRelation))
+		{
+			((OrderStatusWiImpl)_newData.getOrderStatusWithInterfaces()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getParentToChildAsParent() != null && !(_newData.getParentToChildAsParent() instanceof NulledRelation))
+		{
+			((OrderParentToChildrenList)_newData.getParentToChildAsParent()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getParentToChildAsChild() != null && !(_newData.getParentToChildAsChild() instanceof NulledRelation))
+		{
+			((OrderParentToChildren)_newData.getParentToChildAsChild()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId</pre>
+	* @see OrderItem#getOrder() reverse relationship OrderItem.getOrder()
+	* @return items
+	*/
+	public OrderItemList getItems()
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (OrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				_result = new OrderItemList();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(OrderItemList items)
+	{
+		OrderItemList _items = (OrderItemList) items;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(OrderItemFinder.orderId().eq(_data.getOrderId()),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			OrderItemList itemsToDelete = new OrderItemList();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				OrderItem item = _items.getOrderItemAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		OrderItemList items =
+		(OrderItemList) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatus.orderId = this.orderId</pre>
+	* @see OrderStatus#getOrder() reverse relationship OrderStatus.getOrder()
+	* @return The order status
+	*/
+	public OrderStatus getOrderStatus()
+	{
+		OrderStatus _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatus) _related;
+				if (_related == null)
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderStatus) _data.getOrderStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderStatusFinder.orderId().eq(_data.getOrderId());
+					_result = OrderStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderStatus) _data.getOrderStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = OrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(OrderStatus orderStatus)
+	{
+		OrderStatus _orderStatus = (OrderStatus) orderStatus;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus();
+			_data.setOrderStatus(_orderStatus);
+			if (_orderStatus != null)
+			{
+				_orderStatus.setOrderId(_data.getOrderId());
+				_orderStatus.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			OrderStatus _existing = this.getOrderStatus();
+			if (_orderStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_orderStatus != null)
+				{
+					_orderStatus.setOrderId(_data.getOrderId());
+					_orderStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isOrderStatusModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus() instanceof NulledRelation)
+		{
+			OrderStatus _existing = this.getOriginalPersistentObject().getOrderStatus();
+			return _existing != null;
+		}
+
+		OrderStatus orderStatus =
+		(OrderStatus) _data.getOrderStatus();
+		if( orderStatus != null)
+		{
+			return orderStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public OrderItem getItemForProduct(int productId)
+	{
+		OrderItem _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.productId().eq(productId));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public OrderItem getItemForProductSet(IntSet productIds)
+	{
+		OrderItem _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.productId().in(productIds));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public OrderItemList getExpensiveItems(double price)
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.originalPrice().greaterThanEquals(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public List getCheapItems(double price)
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.originalPrice().lessThan(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.originalPrice < {price} and this.userId = 1</pre>
+	* @return cheap items with check
+	*/
+	public List getCheapItemsWithCheck(double price)
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isUserIdNull() && _data.getUserId()==1)
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.originalPrice().lessThan(price));
+				}
+			}
+			else 
+			{
+				_result = new OrderItemList( new None (
+					OrderItemFinder.id()));
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and this.userId = 5</pre>
+	* @return items for user five
+	*/
+	public List getItemsForUserFive()
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isUserIdNull() && _data.getUserId()==5)
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				_result = new OrderItemList( new None (
+					OrderItemFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isUserIdNull() && _data.getUserId()==5)
+				{
+					Operation detachedOp = OrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemList) _data.getItemsForUserFive();
+			if (_result == null)
+			{
+				if (!_data.isUserIdNull() && _data.getUserId()==5)
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setItemsForUserFive(List itemsForUserFive)
+	{
+		OrderItemList _itemsForUserFive = (OrderItemList) itemsForUserFive;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setItemsForUserFive(_itemsForUserFive);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderItem.orderId and
+	10.5 = OrderItem.quantity and
+	OrderItem.state != "In-Progress" and
+	OrderItem.productId = Product.productId</pre>
+	* @return products without in progress
+	*/
+	public ProductList getProductsWithoutInProgress()
+	{
+		ProductList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(OrderFinder.zGetProductsWithoutInProgressMapperFragment(), OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.zGetConstantOperation(0).and(OrderItemFinder.zGetConstantOperation(1))));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(OrderFinder.zGetProductsWithoutInProgressMapperFragment(), OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.zGetConstantOperation(0).and(OrderItemFinder.zGetConstantOperation(1))));
+					_result = new ProductList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProductList) _data.getProductsWithoutInProgress();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(OrderFinder.zGetProductsWithoutInProgressMapperFragment(), OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.zGetConstantOperation(0).and(OrderItemFinder.zGetConstantOperation(1))));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ProductList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setProductsWithoutInProgress(ProductList productsWithoutInProgress)
+	{
+		ProductList _productsWithoutInProgress = (ProductList) productsWithoutInProgress;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductsWithoutInProgress(_productsWithoutInProgress);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItemWi.orderId = this.orderId</pre>
+	* @see OrderItemWi#getOrderWithoutInterface() reverse relationship OrderItemWi.getOrderWithoutInterface()
+	* @return items with interfaces
+	*/
+	public OrderItemWiList getItemsWithInterfaces()
+	{
+		OrderItemWiListImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = OrderItemWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (OrderItemWiListImpl) _data.getItemsWithInterfaces();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderItemWiFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderItemWiListImpl(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsWithInterfacesAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItemsWithInterfaces(_result);
+				if (_result != null) _result.zSetParentContainerorderWithoutInterface(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemWiListImpl) _data.getItemsWithInterfaces();
+			if (_result == null)
+			{
+				_result = new OrderItemWiListImpl();
+				_result.zSetAddHandler(new ItemsWithInterfacesAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItemsWithInterfaces(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemWiListImpl(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsWithInterfacesAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItemsWithInterfaces(OrderItemWiList itemsWithInterfaces)
+	{
+		OrderItemWiListImpl _itemsWithInterfaces = (OrderItemWiListImpl) itemsWithInterfaces;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _itemsWithInterfaces != null)
+			{
+				_itemsWithInterfaces.zMakeDetached(OrderItemWiFinder.orderId().eq(_data.getOrderId()),
+					_data.getItemsWithInterfaces());
+			}
+
+			_data.setItemsWithInterfaces(_itemsWithInterfaces);
+			if (_itemsWithInterfaces != null)
+			{
+				_itemsWithInterfaces.setOrderId(_data.getOrderId());
+				_itemsWithInterfaces.zSetParentContainerorderWithoutInterface(this);
+				_itemsWithInterfaces.zSetAddHandler(new ItemsWithInterfacesAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_itemsWithInterfaces.zSetAddHandler(new ItemsWithInterfacesAddHandlerPersisted());
+			OrderItemWiListImpl itemsWithInterfacesToDelete = new OrderItemWiListImpl();
+			itemsWithInterfacesToDelete.addAll(this.getItemsWithInterfaces());
+			for(int i=0;i < _itemsWithInterfaces.size(); i++)
+			{
+				OrderItemWiImpl item = _itemsWithInterfaces.getOrderItemWiAt(i);
+				if (!itemsWithInterfacesToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsWithInterfacesToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isItemsWithInterfacesModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		OrderItemWiListImpl itemsWithInterfaces =
+		(OrderItemWiListImpl) _data.getItemsWithInterfaces();
+		if( itemsWithInterfaces != null)
+		{
+			return itemsWithInterfaces.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderDate = {com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()}
+	and this.orderId = OrderItem.orderId</pre>
+	* @return items filter by date
+	*/
+	public OrderItemList getItemsFilterByDate()
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderDateNull() && _data.getOrderDate().equals(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()))
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				_result = new OrderItemList( new None (
+					OrderItemFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isOrderDateNull() && _data.getOrderDate().equals(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()))
+				{
+					Operation detachedOp = OrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemList) _data.getItemsFilterByDate();
+			if (_result == null)
+			{
+				if (!_data.isOrderDateNull() && _data.getOrderDate().equals(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()))
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setItemsFilterByDate(OrderItemList itemsFilterByDate)
+	{
+		OrderItemList _itemsFilterByDate = (OrderItemList) itemsFilterByDate;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setItemsFilterByDate(_itemsFilterByDate);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatusWi.orderId = this.orderId</pre>
+	* @see OrderStatusWi#getOrderWithoutInterface() reverse relationship OrderStatusWi.getOrderWithoutInterface()
+	* @return The order status with interfaces
+	*/
+	public OrderStatusWi getOrderStatusWithInterfaces()
+	{
+		OrderStatusWiImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderStatusWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatusWithInterfaces, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatusWiImpl) _related;
+				if (_related == null)
+				{
+					_op = OrderStatusWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatusWithInterfaces() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderStatusWiImpl) _data.getOrderStatusWithInterfaces();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderStatusWiFinder.orderId().eq(_data.getOrderId());
+					_result = OrderStatusWiFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatusWithInterfaces(_result);
+				if (_result != null) _result.zSetParentContainerorderWithoutInterface(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderStatusWiImpl) _data.getOrderStatusWithInterfaces();
+		}
+
+		if (_op != null)
+		{
+			_result = OrderStatusWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatusWithInterfaces(OrderStatusWi orderStatusWithInterfaces)
+	{
+		OrderStatusWiImpl _orderStatusWithInterfaces = (OrderStatusWiImpl) orderStatusWithInterfaces;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatusWithInterfaces();
+			_data.setOrderStatusWithInterfaces(_orderStatusWithInterfaces);
+			if (_orderStatusWithInterfaces != null)
+			{
+				_orderStatusWithInterfaces.setOrderId(_data.getOrderId());
+				_orderStatusWithInterfaces.zSetParentContainerorderWithoutInterface(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatusWithInterfaces(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			OrderStatusWiImpl _existing = (OrderStatusWiImpl) this.getOrderStatusWithInterfaces();
+			if (_orderStatusWithInterfaces != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_orderStatusWithInterfaces != null)
+				{
+					_orderStatusWithInterfaces.setOrderId(_data.getOrderId());
+					_orderStatusWithInterfaces.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isOrderStatusWithInterfacesModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatusWithInterfaces() instanceof NulledRelation)
+		{
+			OrderStatusWiImpl _existing = (OrderStatusWiImpl) this.getOriginalPersistentObject().getOrderStatusWithInterfaces();
+			return _existing != null;
+		}
+
+		OrderStatusWiImpl orderStatusWithInterfaces =
+		(OrderStatusWiImpl) _data.getOrderStatusWithInterfaces();
+		if( orderStatusWithInterfaces != null)
+		{
+			return orderStatusWithInterfaces.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderParentToChildren.parentOrderId = this.orderId</pre>
+	* @see OrderParentToChildren#getParentOrder() reverse relationship OrderParentToChildren.getParentOrder()
+	* @return parent to child as parent
+	*/
+	public OrderParentToChildrenList getParentToChildAsParent()
+	{
+		OrderParentToChildrenList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = OrderParentToChildrenFinder.parentOrderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (OrderParentToChildrenList) _data.getParentToChildAsParent();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderParentToChildrenFinder.parentOrderId().eq(_data.getOrderId());
+					_result = new OrderParentToChildrenList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ParentToChildAsParentAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setParentToChildAsParent(_result);
+				if (_result != null) _result.zSetParentContainerparentOrder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderParentToChildrenList) _data.getParentToChildAsParent();
+			if (_result == null)
+			{
+				_result = new OrderParentToChildrenList();
+				_result.zSetAddHandler(new ParentToChildAsParentAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setParentToChildAsParent(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderParentToChildrenList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ParentToChildAsParentAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setParentToChildAsParent(OrderParentToChildrenList parentToChildAsParent)
+	{
+		OrderParentToChildrenList _parentToChildAsParent = (OrderParentToChildrenList) parentToChildAsParent;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _parentToChildAsParent != null)
+			{
+				_parentToChildAsParent.zMakeDetached(OrderParentToChildrenFinder.parentOrderId().eq(_data.getOrderId()),
+					_data.getParentToChildAsParent());
+			}
+
+			_data.setParentToChildAsParent(_parentToChildAsParent);
+			if (_parentToChildAsParent != null)
+			{
+				_parentToChildAsParent.setParentOrderId(_data.getOrderId());
+				_parentToChildAsParent.zSetParentContainerparentOrder(this);
+				_parentToChildAsParent.zSetAddHandler(new ParentToChildAsParentAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_parentToChildAsParent.zSetAddHandler(new ParentToChildAsParentAddHandlerPersisted());
+			OrderParentToChildrenList parentToChildAsParentToDelete = new OrderParentToChildrenList();
+			parentToChildAsParentToDelete.addAll(this.getParentToChildAsParent());
+			for(int i=0;i < _parentToChildAsParent.size(); i++)
+			{
+				OrderParentToChildren item = _parentToChildAsParent.getOrderParentToChildrenAt(i);
+				if (!parentToChildAsParentToDelete.remove(item))
+				{
+					item.setParentOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			parentToChildAsParentToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isParentToChildAsParentModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		OrderParentToChildrenList parentToChildAsParent =
+		(OrderParentToChildrenList) _data.getParentToChildAsParent();
+		if( parentToChildAsParent != null)
+		{
+			return parentToChildAsParent.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderParentToChildren.childOrderId = this.orderId</pre>
+	* @see OrderParentToChildren#getChildOrder() reverse relationship OrderParentToChildren.getChildOrder()
+	* @return The parent to child as child
+	*/
+	public OrderParentToChildren getParentToChildAsChild()
+	{
+		OrderParentToChildren _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderParentToChildrenFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forparentToChildAsChild, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderParentToChildren) _related;
+				if (_related == null)
+				{
+					_op = OrderParentToChildrenFinder.childOrderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getParentToChildAsChild() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderParentToChildren) _data.getParentToChildAsChild();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderParentToChildrenFinder.childOrderId().eq(_data.getOrderId());
+					_result = OrderParentToChildrenFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setParentToChildAsChild(_result);
+				if (_result != null) _result.zSetParentContainerchildOrder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderParentToChildren) _data.getParentToChildAsChild();
+		}
+
+		if (_op != null)
+		{
+			_result = OrderParentToChildrenFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParentToChildAsChild(OrderParentToChildren parentToChildAsChild)
+	{
+		OrderParentToChildren _parentToChildAsChild = (OrderParentToChildren) parentToChildAsChild;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getParentToChildAsChild();
+			_data.setParentToChildAsChild(_parentToChildAsChild);
+			if (_parentToChildAsChild != null)
+			{
+				_parentToChildAsChild.setChildOrderId(_data.getOrderId());
+				_parentToChildAsChild.zSetParentContainerchildOrder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setParentToChildAsChild(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			OrderParentToChildren _existing = this.getParentToChildAsChild();
+			if (_parentToChildAsChild != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_parentToChildAsChild != null)
+				{
+					_parentToChildAsChild.setChildOrderId(_data.getOrderId());
+					_parentToChildAsChild.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isParentToChildAsChildModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_data.getParentToChildAsChild() instanceof NulledRelation)
+		{
+			OrderParentToChildren _existing = this.getOriginalPersistentObject().getParentToChildAsChild();
+			return _existing != null;
+		}
+
+		OrderParentToChildren parentToChildAsChild =
+		(OrderParentToChildren) _data.getParentToChildAsChild();
+		if( parentToChildAsChild != null)
+		{
+			return parentToChildAsChild.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderParentToChildren.parentOrderId = this.orderId and OrderParentToChildren.childOrderId = Order.orderId</pre>
+	* @see Order#getParent() reverse relationship Order.getParent()
+	* @return children
+	*/
+	public OrderList getChildren()
+	{
+		OrderList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(OrderFinder.zGetChildrenMapperFragment(), OrderParentToChildrenFinder.parentOrderId().eq(_data.getOrderId()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(OrderFinder.zGetChildrenMapperFragment(), OrderParentToChildrenFinder.parentOrderId().eq(_data.getOrderId()));
+					_result = new OrderList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderList) _data.getChildren();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(OrderFinder.zGetChildrenMapperFragment(), OrderParentToChildrenFinder.parentOrderId().eq(_data.getOrderId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setChildren(OrderList children)
+	{
+		OrderList _children = (OrderList) children;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setChildren(_children);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and this.orderId = OrderStatus.orderId</pre>
+	* @return itemsfor existing status
+	*/
+	public OrderItemList getItemsforExistingStatus()
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = OrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemList) _data.getItemsforExistingStatus();
+			if (_result == null)
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setItemsforExistingStatus(OrderItemList itemsforExistingStatus)
+	{
+		OrderItemList _itemsforExistingStatus = (OrderItemList) itemsforExistingStatus;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setItemsforExistingStatus(_itemsforExistingStatus);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and (this.userId = 1 or this.state = "Gummed up")</pre>
+	* @return items or test
+	*/
+	public OrderItemList getItemsOrTest()
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if ((!_data.isUserIdNull() && _data.getUserId()==1) || (!_data.isStateNull() && _data.getState().equals("Gummed up")))
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				_result = new OrderItemList( new None (
+					OrderItemFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if ((!_data.isUserIdNull() && _data.getUserId()==1) || (!_data.isStateNull() && _data.getState().equals("Gummed up")))
+				{
+					Operation detachedOp = OrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemList) _data.getItemsOrTest();
+			if (_result == null)
+			{
+				if ((!_data.isUserIdNull() && _data.getUserId()==1) || (!_data.isStateNull() && _data.getState().equals("Gummed up")))
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setItemsOrTest(OrderItemList itemsOrTest)
+	{
+		OrderItemList _itemsOrTest = (OrderItemList) itemsOrTest;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setItemsOrTest(_itemsOrTest);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and (this.userId in (1,2) or this.state in ("In-Progress"))</pre>
+	* @return items in test
+	*/
+	public OrderItemList getItemsInTest()
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if ((!_data.isUserIdNull() && OrderFinder.zGetConstantIntSet(0).contains(_data.getUserId())) || (!_data.isStateNull() && OrderFinder.zGetConstantStringSet(0).contains(_data.getState())))
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				_result = new OrderItemList( new None (
+					OrderItemFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if ((!_data.isUserIdNull() && OrderFinder.zGetConstantIntSet(0).contains(_data.getUserId())) || (!_data.isStateNull() && OrderFinder.zGetConstantStringSet(0).contains(_data.getState())))
+				{
+					Operation detachedOp = OrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemList) _data.getItemsInTest();
+			if (_result == null)
+			{
+				if ((!_data.isUserIdNull() && OrderFinder.zGetConstantIntSet(0).contains(_data.getUserId())) || (!_data.isStateNull() && OrderFinder.zGetConstantStringSet(0).contains(_data.getState())))
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setItemsInTest(OrderItemList itemsInTest)
+	{
+		OrderItemList _itemsInTest = (OrderItemList) itemsInTest;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setItemsInTest(_itemsInTest);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(OrderParentToChildren.parentOrderId = Order.orderId and OrderParentToChildren.childOrderId = this.orderId )</pre>
+	* @see Order#getChildren() reverse relationship Order.getChildren()
+	* @return The parent
+	*/
+	public Order getParent()
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(OrderFinder.zGetParentMapperFragment(), OrderParentToChildrenFinder.childOrderId().eq(_data.getOrderId()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(OrderFinder.zGetParentMapperFragment(), OrderParentToChildrenFinder.childOrderId().eq(_data.getOrderId()));
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getParent();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(OrderFinder.zGetParentMapperFragment(), OrderParentToChildrenFinder.childOrderId().eq(_data.getOrderId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParent(Order parent)
+	{
+		Order _parent = (Order) parent;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParent(_parent);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected abstract void setUserIdAndDescriptionImpl(int userId, String description, MithraTransaction mithraTransaction)throws IllegalArgumentException;
+	public void setUserIdAndDescription(int userId, String description) throws IllegalArgumentException
+	{
+		this.setUserIdAndDescription(userId,description, 0);
+	}
+
+	protected void setUserIdAndDescription(int userId, String description, int _retryCount)throws IllegalArgumentException
+	{
+		MithraTransaction _tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+		boolean _nested = _tx != null;
+		for(_retryCount = MithraTransaction.DEFAULT_TRANSACTION_RETRIES - _retryCount; _retryCount > 0; )
+		{
+			try
+			{
+				if (!_nested)
+				{
+					_tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+					_tx.setTransactionName("Order.setUserIdAndDescription");
+				}
+
+				this.setUserIdAndDescriptionImpl(userId,description, _tx);
+				if (!_nested) _tx.commit();
+				break;
+			}
+
+			catch(IllegalArgumentException _mithra_e_0)
+			{
+				this.getLogger().error("setUserIdAndDescription rolled back tx ", _mithra_e_0);
+				if (!_nested && _tx != null)
+				{
+					_tx.rollback();
+				}
+
+				throw _mithra_e_0;
+			}
+
+			catch(Throwable _t)
+			{
+				if (_nested) MithraTransaction.handleNestedTransactionException(_tx, _t);
+				_retryCount = MithraTransaction.handleTransactionException(_tx, _t, _retryCount);
+			}
+		}
+	}
+
+	protected abstract void cancelImpl( MithraTransaction mithraTransaction)throws IllegalArgumentException;
+	public void cancel() throws IllegalArgumentException
+	{
+		this.cancel( 0);
+	}
+
+	protected void cancel( int _retryCount)throws IllegalArgumentException
+	{
+		MithraTransaction _tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+		boolean _nested = _tx != null;
+		for(_retryCount = MithraTransaction.DEFAULT_TRANSACTION_RETRIES - _retryCount; _retryCount > 0; )
+		{
+			try
+			{
+				if (!_nested)
+				{
+					_tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+					_tx.setTransactionName("Order.cancel");
+				}
+
+				this.cancelImpl( _tx);
+				if (!_nested) _tx.commit();
+				break;
+			}
+
+			catch(IllegalArgumentException _mithra_e_0)
+			{
+				this.getLogger().error("cancel rolled back tx ", _mithra_e_0);
+				if (!_nested && _tx != null)
+				{
+					_tx.rollback();
+				}
+
+				throw _mithra_e_0;
+			}
+
+			catch(Throwable _t)
+			{
+				if (_nested) MithraTransaction.handleNestedTransactionException(_tx, _t);
+				_retryCount = MithraTransaction.handleTransactionException(_tx, _t, _retryCount);
+			}
+		}
+	}
+
+	protected abstract void cancelAndFailImpl( MithraTransaction mithraTransaction)throws IllegalArgumentException;
+	public void cancelAndFail() throws IllegalArgumentException
+	{
+		this.cancelAndFail( 0);
+	}
+
+	protected void cancelAndFail( int _retryCount)throws IllegalArgumentException
+	{
+		MithraTransaction _tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+		boolean _nested = _tx != null;
+		for(_retryCount = MithraTransaction.DEFAULT_TRANSACTION_RETRIES - _retryCount; _retryCount > 0; )
+		{
+			try
+			{
+				if (!_nested)
+				{
+					_tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+					_tx.setTransactionName("Order.cancelAndFail");
+				}
+
+				this.cancelAndFailImpl( _tx);
+				if (!_nested) _tx.commit();
+				break;
+			}
+
+			catch(IllegalArgumentException _mithra_e_0)
+			{
+				this.getLogger().error("cancelAndFail rolled back tx ", _mithra_e_0);
+				if (!_nested && _tx != null)
+				{
+					_tx.rollback();
+				}
+
+				throw _mithra_e_0;
+			}
+
+			catch(Throwable _t)
+			{
+				if (_nested) MithraTransaction.handleNestedTransactionException(_tx, _t);
+				_retryCount = MithraTransaction.handleTransactionException(_tx, _t, _retryCount);
+			}
+		}
+	}
+
+	protected abstract void setStateAndDescriptionImpl(String state, String description, MithraTransaction mithraTransaction);
+	public void setStateAndDescription(String state, String description)
+	{
+		this.setStateAndDescription(state,description, 0);
+	}
+
+	protected void setStateAndDescription(String state, String description, int _retryCount)
+	{
+		MithraTransaction _tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+		boolean _nested = _tx != null;
+		for(_retryCount = MithraTransaction.DEFAULT_TRANSACTION_RETRIES - _retryCount; _retryCount > 0; )
+		{
+			try
+			{
+				if (!_nested)
+				{
+					_tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+					_tx.setTransactionName("Order.setStateAndDescription");
+				}
+
+				this.setStateAndDescriptionImpl(state,description, _tx);
+				if (!_nested) _tx.commit();
+				break;
+			}
+
+			catch(Throwable _t)
+			{
+				if (_nested) MithraTransaction.handleNestedTransactionException(_tx, _t);
+				_retryCount = MithraTransaction.handleTransactionException(_tx, _t, _retryCount);
+			}
+		}
+	}
+
+	protected abstract void setUserIdCancelAndFailImpl(int userId, MithraTransaction mithraTransaction)throws IllegalArgumentException;
+	public void setUserIdCancelAndFail(int userId) throws IllegalArgumentException
+	{
+		this.setUserIdCancelAndFail(userId, 0);
+	}
+
+	protected void setUserIdCancelAndFail(int userId, int _retryCount)throws IllegalArgumentException
+	{
+		MithraTransaction _tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+		boolean _nested = _tx != null;
+		for(_retryCount = MithraTransaction.DEFAULT_TRANSACTION_RETRIES - _retryCount; _retryCount > 0; )
+		{
+			try
+			{
+				if (!_nested)
+				{
+					_tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+					_tx.setTransactionName("Order.setUserIdCancelAndFail");
+				}
+
+				this.setUserIdCancelAndFailImpl(userId, _tx);
+				if (!_nested) _tx.commit();
+				break;
+			}
+
+			catch(IllegalArgumentException _mithra_e_0)
+			{
+				this.getLogger().error("setUserIdCancelAndFail rolled back tx ", _mithra_e_0);
+				if (!_nested && _tx != null)
+				{
+					_tx.rollback();
+				}
+
+				throw _mithra_e_0;
+			}
+
+			catch(Throwable _t)
+			{
+				if (_nested) MithraTransaction.handleNestedTransactionException(_tx, _t);
+				_retryCount = MithraTransaction.handleTransactionException(_tx, _t, _retryCount);
+			}
+		}
+	}
+
+	protected abstract void cancelOrderAndOrderItemsImpl( MithraTransaction mithraTransaction)throws IllegalArgumentException;
+	public void cancelOrderAndOrderItems() throws IllegalArgumentException
+	{
+		this.cancelOrderAndOrderItems( 0);
+	}
+
+	protected void cancelOrderAndOrderItems( int _retryCount)throws IllegalArgumentException
+	{
+		MithraTransaction _tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+		boolean _nested = _tx != null;
+		for(_retryCount = MithraTransaction.DEFAULT_TRANSACTION_RETRIES - _retryCount; _retryCount > 0; )
+		{
+			try
+			{
+				if (!_nested)
+				{
+					_tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+					_tx.setTransactionName("Order.cancelOrderAndOrderItems");
+				}
+
+				this.cancelOrderAndOrderItemsImpl( _tx);
+				if (!_nested) _tx.commit();
+				break;
+			}
+
+			catch(IllegalArgumentException _mithra_e_0)
+			{
+				this.getLogger().error("cancelOrderAndOrderItems rolled back tx ", _mithra_e_0);
+				if (!_nested && _tx != null)
+				{
+					_tx.rollback();
+				}
+
+				throw _mithra_e_0;
+			}
+
+			catch(Throwable _t)
+			{
+				if (_nested) MithraTransaction.handleNestedTransactionException(_tx, _t);
+				_retryCount = MithraTransaction.handleTransactionException(_tx, _t, _retryCount);
+			}
+		}
+	}
+
+	protected abstract void cancelOrderItemsImpl( MithraTransaction mithraTransaction);
+	public void cancelOrderItems()
+	{
+		this.cancelOrderItems( 0);
+	}
+
+	protected void cancelOrderItems( int _retryCount)
+	{
+		MithraTransaction _tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+		boolean _nested = _tx != null;
+		for(_retryCount = MithraTransaction.DEFAULT_TRANSACTION_RETRIES - _retryCount; _retryCount > 0; )
+		{
+			try
+			{
+				if (!_nested)
+				{
+					_tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+					_tx.setTransactionName("Order.cancelOrderItems");
+				}
+
+				this.cancelOrderItemsImpl( _tx);
+				if (!_nested) _tx.commit();
+				break;
+			}
+
+			catch(Throwable _t)
+			{
+				if (_nested) MithraTransaction.handleNestedTransactionException(_tx, _t);
+				_retryCount = MithraTransaction.handleTransactionException(_tx, _t, _retryCount);
+			}
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		OrderItemList items =
+		(OrderItemList) _data.getItems();
+		OrderStatus orderStatus =
+		(OrderStatus) _data.getOrderStatus();
+		OrderItemWiListImpl itemsWithInterfaces =
+		(OrderItemWiListImpl) _data.getItemsWithInterfaces();
+		OrderStatusWiImpl orderStatusWithInterfaces =
+		(OrderStatusWiImpl) _data.getOrderStatusWithInterfaces();
+		OrderParentToChildrenList parentToChildAsParent =
+		(OrderParentToChildrenList) _data.getParentToChildAsParent();
+		OrderParentToChildren parentToChildAsChild =
+		(OrderParentToChildren) _data.getParentToChildAsChild();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.cascadeInsert();
+		}
+
+		if (itemsWithInterfaces != null)
+		{
+			itemsWithInterfaces.cascadeInsertAll();
+		}
+
+		if (orderStatusWithInterfaces != null)
+		{
+			orderStatusWithInterfaces.cascadeInsert();
+		}
+
+		if (parentToChildAsParent != null)
+		{
+			parentToChildAsParent.cascadeInsertAll();
+		}
+
+		if (parentToChildAsChild != null)
+		{
+			parentToChildAsChild.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		OrderFinder.OrderRelatedFinder parentFinder = (OrderFinder.OrderRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _newData = (OrderData) _behavior.getCurrentDataForWrite(this);
+		{
+			OrderItemList items =
+			(OrderItemList) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			OrderStatus orderStatus =
+			(OrderStatus) _newData.getOrderStatus();
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus != null, navigationStats);
+			if (orderStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		{
+			OrderItemWiListImpl itemsWithInterfaces =
+			(OrderItemWiListImpl) _newData.getItemsWithInterfaces();
+			RelatedFinder dependentFinder = parentFinder.itemsWithInterfaces();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, itemsWithInterfaces != null, navigationStats);
+			if (itemsWithInterfaces != null)
+			{
+				itemsWithInterfaces.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatusWithInterfaces() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatusWithInterfaces();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			OrderStatusWiImpl orderStatusWithInterfaces =
+			(OrderStatusWiImpl) _newData.getOrderStatusWithInterfaces();
+			RelatedFinder dependentFinder = parentFinder.orderStatusWithInterfaces();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatusWithInterfaces != null, navigationStats);
+			if (orderStatusWithInterfaces != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatusWithInterfaces, dependentFinder, navigationStats);
+			}
+		}
+
+		{
+			OrderParentToChildrenList parentToChildAsParent =
+			(OrderParentToChildrenList) _newData.getParentToChildAsParent();
+			RelatedFinder dependentFinder = parentFinder.parentToChildAsParent();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, parentToChildAsParent != null, navigationStats);
+			if (parentToChildAsParent != null)
+			{
+				parentToChildAsParent.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getParentToChildAsChild() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.parentToChildAsChild();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			OrderParentToChildren parentToChildAsChild =
+			(OrderParentToChildren) _newData.getParentToChildAsChild();
+			RelatedFinder dependentFinder = parentFinder.parentToChildAsChild();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, parentToChildAsChild != null, navigationStats);
+			if (parentToChildAsChild != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(parentToChildAsChild, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Order zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderData _data = (OrderData) _behavior.getCurrentDataForWrite(this);
+		OrderItemList items =
+		(OrderItemList) _data.getItems();
+		OrderStatus orderStatus =
+		(OrderStatus) _data.getOrderStatus();
+		OrderItemWiListImpl itemsWithInterfaces =
+		(OrderItemWiListImpl) _data.getItemsWithInterfaces();
+		OrderStatusWiImpl orderStatusWithInterfaces =
+		(OrderStatusWiImpl) _data.getOrderStatusWithInterfaces();
+		OrderParentToChildrenList parentToChildAsParent =
+		(OrderParentToChildrenList) _data.getParentToChildAsParent();
+		OrderParentToChildren parentToChildAsChild =
+		(OrderParentToChildren) _data.getParentToChildAsChild();
+		Order original = (Order) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.zCascadeCopyThenInsert();
+		}
+
+		if (itemsWithInterfaces != null)
+		{
+			itemsWithInterfaces.zCascadeCopyThenInsertAll();
+		}
+
+		if (orderStatusWithInterfaces != null)
+		{
+			orderStatusWithInterfaces.zCascadeCopyThenInsert();
+		}
+
+		if (parentToChildAsParent != null)
+		{
+			parentToChildAsParent.zCascadeCopyThenInsertAll();
+		}
+
+		if (parentToChildAsChild != null)
+		{
+			parentToChildAsChild.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getItems().cascadeDeleteAll();
+		{
+			OrderStatus related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		((OrderItemWiListImpl)
+		this.getItemsWithInterfaces()).cascadeDeleteAll();
+		{
+			OrderStatusWiImpl related = (OrderStatusWiImpl) this.getOrderStatusWithInterfaces();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.getParentToChildAsParent().cascadeDeleteAll();
+		{
+			OrderParentToChildren related = this.getParentToChildAsChild();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderFinder.getMithraObjectPortal();
+	}
+
+	public Order getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, OrderFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, OrderFinder.orderDate(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderAbstract result = (OrderAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItem item = (OrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(OrderAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItem item = (OrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatus item = (OrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(OrderAbstract.this);
+		}
+	}
+
+	protected class OrderStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatus item = (OrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class ItemsWithInterfacesAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItemWiImpl item = (OrderItemWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorderWithoutInterface(OrderAbstract.this);
+		}
+	}
+
+	protected class ItemsWithInterfacesAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItemWiImpl item = (OrderItemWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatusWithInterfacesAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatusWiImpl item = (OrderStatusWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorderWithoutInterface(OrderAbstract.this);
+		}
+	}
+
+	protected class OrderStatusWithInterfacesAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatusWiImpl item = (OrderStatusWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class ParentToChildAsParentAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderParentToChildren item = (OrderParentToChildren) relatedObject;
+			item.setParentOrderId(getOrderId());
+			item.zSetParentContainerparentOrder(OrderAbstract.this);
+		}
+	}
+
+	protected class ParentToChildAsParentAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderParentToChildren item = (OrderParentToChildren) relatedObject;
+			item.setParentOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class ParentToChildAsChildAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderParentToChildren item = (OrderParentToChildren) relatedObject;
+			item.setChildOrderId(getOrderId());
+			item.zSetParentContainerchildOrder(OrderAbstract.this);
+		}
+	}
+
+	protected class ParentToChildAsChildAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderParentToChildren item = (OrderParentToChildren) relatedObject;
+			item.setChildOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,600 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderAsTxReadOnlyAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OrderAsTxReadOnly.class.getName());
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderAsTxReadOnlyData _castedSrcData = (OrderAsTxReadOnlyData) _srcData;
+			OrderStatusAsTxReadOnlyData _castedTargetData = (OrderStatusAsTxReadOnlyData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderAsTxReadOnlyData _castedSrcData = (OrderAsTxReadOnlyData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public OrderAsTxReadOnlyAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OrderAsTxReadOnly getDetachedCopy() throws MithraBusinessException
+	{
+		return (OrderAsTxReadOnly) super.getDetachedCopy();
+	}
+
+	public OrderAsTxReadOnly getNonPersistentCopy() throws MithraBusinessException
+	{
+		OrderAsTxReadOnly result = (OrderAsTxReadOnly) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public OrderAsTxReadOnly copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OrderAsTxReadOnly) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public OrderAsTxReadOnly zFindOriginal()
+	{
+		OrderAsTxReadOnlyData data = (OrderAsTxReadOnlyData) this.currentData;
+		Operation op;
+		op = OrderAsTxReadOnlyFinder.orderId().eq(data.getOrderId());
+		return OrderAsTxReadOnlyFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isOrderStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderAsTxReadOnlyData();
+	}
+
+	protected void zSetFromOrderAsTxReadOnlyData( OrderAsTxReadOnlyData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderAsTxReadOnlyData( OrderAsTxReadOnlyData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((OrderAsTxReadOnlyData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		OrderAsTxReadOnlyData data = (OrderAsTxReadOnlyData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(OrderAsTxReadOnlyFinder.description(), newValue, false, false );
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return ((OrderAsTxReadOnlyData) this.zSynchronizedGetData()).isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		OrderAsTxReadOnlyData data = (OrderAsTxReadOnlyData) this.zSynchronizedGetData();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderAsTxReadOnlyFinder.orderDate(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OrderAsTxReadOnlyData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OrderAsTxReadOnlyData data = (OrderAsTxReadOnlyData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(OrderAsTxReadOnlyFinder.orderId(), newValue, true, false ,false);
+		if (d == null) return;
+		OrderAsTxReadOnlyData data = (OrderAsTxReadOnlyData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			OrderStatusAsTxReadOnly orderStatus =
+			(OrderStatusAsTxReadOnly ) data.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.setOrderId(newValue);
+			}
+		}
+	}
+
+	public boolean isStateNull()
+	{
+		return ((OrderAsTxReadOnlyData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		OrderAsTxReadOnlyData data = (OrderAsTxReadOnlyData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OrderAsTxReadOnlyFinder.state(), newValue, false, false );
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return ((OrderAsTxReadOnlyData) this.zSynchronizedGetData()).isTrackingIdNull();
+	}
+
+	public String getTrackingId()
+	{
+		OrderAsTxReadOnlyData data = (OrderAsTxReadOnlyData) this.zSynchronizedGetData();
+		return data.getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		zSetString(OrderAsTxReadOnlyFinder.trackingId(), newValue, false, false );
+	}
+
+	public boolean isUserIdNull()
+	{
+		return ((OrderAsTxReadOnlyData) this.zSynchronizedGetData()).isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		OrderAsTxReadOnlyData data = (OrderAsTxReadOnlyData) this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderAsTxReadOnlyFinder.userId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderAsTxReadOnlyFinder.userId(), false);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(OrderAsTxReadOnlyFinder.userId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderAsTxReadOnlyData _newData = (OrderAsTxReadOnlyData) _data;
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			OrderStatusAsTxReadOnly orderStatus =
+			this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeDelete();
+			}
+		}
+		else
+		{
+			OrderStatusAsTxReadOnly orderStatus =
+			(OrderStatusAsTxReadOnly) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				OrderStatusAsTxReadOnly _existing =
+				this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderAsTxReadOnlyData _newData = (OrderAsTxReadOnlyData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((OrderStatusAsTxReadOnly)_newData.getOrderStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderAsTxReadOnlyData _newData = (OrderAsTxReadOnlyData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((OrderStatusAsTxReadOnly)_newData.getOrderStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatusAsTxReadOnly.orderId = this.orderId</pre>
+	* @see OrderStatusAsTxReadOnly#getOrder() reverse relationship OrderStatusAsTxReadOnly.getOrder()
+	* @return The order status
+	*/
+	public OrderStatusAsTxReadOnly getOrderStatus()
+	{
+		OrderStatusAsTxReadOnly _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderAsTxReadOnlyData _data = (OrderAsTxReadOnlyData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderStatusAsTxReadOnlyFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatusAsTxReadOnly) _related;
+				if (_related == null)
+				{
+					_op = OrderStatusAsTxReadOnlyFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderStatusAsTxReadOnly) _data.getOrderStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderStatusAsTxReadOnlyFinder.orderId().eq(_data.getOrderId());
+					_result = OrderStatusAsTxReadOnlyFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderAsTxReadOnlyData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderStatusAsTxReadOnly) _data.getOrderStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = OrderStatusAsTxReadOnlyFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(OrderStatusAsTxReadOnly orderStatus)
+	{
+		OrderStatusAsTxReadOnly _orderStatus = (OrderStatusAsTxReadOnly) orderStatus;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderAsTxReadOnlyData _data = (OrderAsTxReadOnlyData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus();
+			_data.setOrderStatus(_orderStatus);
+			if (_orderStatus != null)
+			{
+				_orderStatus.setOrderId(_data.getOrderId());
+				_orderStatus.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			OrderStatusAsTxReadOnly _existing = this.getOrderStatus();
+			if (_orderStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_orderStatus != null)
+				{
+					_orderStatus.setOrderId(_data.getOrderId());
+					_orderStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isOrderStatusModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderAsTxReadOnlyData _data = (OrderAsTxReadOnlyData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus() instanceof NulledRelation)
+		{
+			OrderStatusAsTxReadOnly _existing = this.getOriginalPersistentObject().getOrderStatus();
+			return _existing != null;
+		}
+
+		OrderStatusAsTxReadOnly orderStatus =
+		(OrderStatusAsTxReadOnly) _data.getOrderStatus();
+		if( orderStatus != null)
+		{
+			return orderStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderAsTxReadOnlyData _data = (OrderAsTxReadOnlyData) _behavior.getCurrentDataForWrite(this);
+		OrderStatusAsTxReadOnly orderStatus =
+		(OrderStatusAsTxReadOnly) _data.getOrderStatus();
+		_behavior.insert(this);
+		if (orderStatus != null)
+		{
+			orderStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		OrderAsTxReadOnlyFinder.OrderAsTxReadOnlyRelatedFinder parentFinder = (OrderAsTxReadOnlyFinder.OrderAsTxReadOnlyRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderAsTxReadOnlyData _newData = (OrderAsTxReadOnlyData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			OrderStatusAsTxReadOnly orderStatus =
+			(OrderStatusAsTxReadOnly) _newData.getOrderStatus();
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus != null, navigationStats);
+			if (orderStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public OrderAsTxReadOnly zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderAsTxReadOnlyData _data = (OrderAsTxReadOnlyData) _behavior.getCurrentDataForWrite(this);
+		OrderStatusAsTxReadOnly orderStatus =
+		(OrderStatusAsTxReadOnly) _data.getOrderStatus();
+		OrderAsTxReadOnly original = (OrderAsTxReadOnly) _behavior.copyThenInsert(this);
+		if (orderStatus != null)
+		{
+			orderStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		{
+			OrderStatusAsTxReadOnly related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderAsTxReadOnlyFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderAsTxReadOnlyFinder.getMithraObjectPortal();
+	}
+
+	public OrderAsTxReadOnly getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, OrderAsTxReadOnlyFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, OrderAsTxReadOnlyFinder.orderDate(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderAsTxReadOnlyFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderAsTxReadOnlyFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderAsTxReadOnlyFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderAsTxReadOnlyFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderAsTxReadOnlyAbstract result = (OrderAsTxReadOnlyAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class OrderStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatusAsTxReadOnly item = (OrderStatusAsTxReadOnly) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(OrderAsTxReadOnlyAbstract.this);
+		}
+	}
+
+	protected class OrderStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatusAsTxReadOnly item = (OrderStatusAsTxReadOnly) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
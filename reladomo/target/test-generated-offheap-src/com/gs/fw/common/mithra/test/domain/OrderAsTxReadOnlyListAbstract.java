@@ -0,0 +1,176 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderAsTxReadOnlyListAbstract extends DelegatingList<OrderAsTxReadOnly> implements MithraTransactionalList<OrderAsTxReadOnly>
+{
+	public OrderAsTxReadOnlyListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderAsTxReadOnlyListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderAsTxReadOnlyListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderAsTxReadOnlyListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderAsTxReadOnly[] elements()
+	{
+		OrderAsTxReadOnly[] result = new OrderAsTxReadOnly[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderAsTxReadOnlyList intersection(OrderAsTxReadOnlyList another)
+	{
+		return (OrderAsTxReadOnlyList)super.intersection(another);
+	}
+
+	public OrderAsTxReadOnly getOrderAsTxReadOnlyAt(int index)
+	{
+		return (OrderAsTxReadOnly)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatusAsTxReadOnly.orderId = this.orderId</pre>
+	* @see OrderStatusAsTxReadOnly#getOrder() reverse relationship OrderStatusAsTxReadOnly.getOrder()
+	* @return The order status
+	*/
+	public OrderStatusAsTxReadOnlyList getOrderStatus()
+	{
+		return (OrderStatusAsTxReadOnlyList) this.zGetDelegated().resolveRelationship(this, OrderAsTxReadOnlyFinder.orderStatus());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderAsTxReadOnlyFinder.getMithraObjectPortal();
+	}
+
+	public OrderAsTxReadOnlyList getNonPersistentCopy()
+	{
+		OrderAsTxReadOnlyList result = new OrderAsTxReadOnlyList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderAsTxReadOnlyList asAdhoc()
+	{
+		return (OrderAsTxReadOnlyList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<OrderAsTxReadOnly> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OrderAsTxReadOnlyList merge(MithraTransactionalList<OrderAsTxReadOnly> incoming, TopLevelMergeOptions<OrderAsTxReadOnly> mergeOptions)
+	{
+		return (OrderAsTxReadOnlyList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderAsTxReadOnlyList getDetachedCopy()
+	{
+		OrderAsTxReadOnlyList result = new OrderAsTxReadOnlyList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderAsTxReadOnlyFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderAsTxReadOnlyFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderAsTxReadOnlyFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OrderAsTxReadOnlyFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OrderAsTxReadOnlyFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(OrderAsTxReadOnlyFinder.trackingId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(OrderAsTxReadOnlyFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getOrderStatus()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,23 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderClassificationWiAbstract
+{
+	int getClassificationId();
+	void setClassificationId(int newValue);
+	boolean isClassificationIdNull();
+	String getDescription();
+	void setDescription(String newValue);
+	boolean isDescriptionNull();
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	public OrderWi getOrder();
+	void setOrder(OrderWi order);
+}
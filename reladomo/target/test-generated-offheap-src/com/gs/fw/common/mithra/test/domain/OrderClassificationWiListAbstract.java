@@ -0,0 +1,12 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderClassificationWiListAbstract extends List<OrderClassificationWi>
+{
+	public OrderWiList getOrders();
+	public void setClassificationId(int newValue);
+	public void setDescription(String newValue);
+	public void setOrderId(int newValue);
+}
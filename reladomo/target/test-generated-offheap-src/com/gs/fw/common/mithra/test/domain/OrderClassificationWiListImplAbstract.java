@@ -0,0 +1,152 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderClassificationWiListImplAbstract extends DelegatingList<OrderClassificationWi> implements MithraTransactionalList<OrderClassificationWi>
+{
+	public OrderClassificationWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderClassificationWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderClassificationWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderClassificationWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderClassificationWi[] elements()
+	{
+		OrderClassificationWi[] result = new OrderClassificationWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderClassificationWiListImpl intersection(OrderClassificationWiListImpl another)
+	{
+		return (OrderClassificationWiListImpl)super.intersection(another);
+	}
+
+	public OrderClassificationWiImpl getOrderClassificationWiAt(int index)
+	{
+		return (OrderClassificationWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderWi.orderId</pre>
+	* @see OrderWi#getClassifications() reverse relationship OrderWi.getClassifications()
+	* @return The order
+	*/
+	public OrderWiList getOrders()
+	{
+		return (OrderWiList) this.zGetDelegated().resolveRelationship(this, OrderClassificationWiFinder.order());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderClassificationWiFinder.getMithraObjectPortal();
+	}
+
+	public OrderClassificationWiListImpl getNonPersistentCopy()
+	{
+		OrderClassificationWiListImpl result = new OrderClassificationWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderClassificationWiListImpl asAdhoc()
+	{
+		return (OrderClassificationWiListImpl) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<OrderClassificationWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OrderClassificationWiListImpl merge(MithraTransactionalList<OrderClassificationWi> incoming, TopLevelMergeOptions<OrderClassificationWi> mergeOptions)
+	{
+		return (OrderClassificationWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderClassificationWiListImpl getDetachedCopy()
+	{
+		OrderClassificationWiListImpl result = new OrderClassificationWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderClassificationWiFinder.orderId(), newValue);
+	}
+
+	public void setClassificationId(int newValue)
+	{
+		zSetInteger(OrderClassificationWiFinder.classificationId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OrderClassificationWiFinder.description(), newValue);
+	}
+}
@@ -0,0 +1,427 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderDenormalizedAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OrderDenormalized.class.getName());
+	public OrderDenormalizedAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OrderDenormalized getDetachedCopy() throws MithraBusinessException
+	{
+		return (OrderDenormalized) super.getDetachedCopy();
+	}
+
+	public OrderDenormalized getNonPersistentCopy() throws MithraBusinessException
+	{
+		OrderDenormalized result = (OrderDenormalized) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public OrderDenormalized copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OrderDenormalized) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public OrderDenormalized zFindOriginal()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.currentData;
+		Operation op;
+		op = OrderDenormalizedFinder.orderId().eq(data.getOrderId());
+		return OrderDenormalizedFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderDenormalizedData();
+	}
+
+	protected void zSetFromOrderDenormalizedData( OrderDenormalizedData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderDenormalizedData( OrderDenormalizedData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(OrderDenormalizedFinder.description(), newValue, false, false );
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isDiscountPriceNull();
+	}
+
+	public double getDiscountPrice()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		if (data.isDiscountPriceNull()) MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(OrderDenormalizedFinder.discountPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderDenormalizedFinder.orderDate(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderDenormalizedFinder.orderId(), newValue, true, false ,false);
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isOriginalPriceNull();
+	}
+
+	public double getOriginalPrice()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		if (data.isOriginalPriceNull()) MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(OrderDenormalizedFinder.originalPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(OrderDenormalizedFinder.productId(), newValue, true, false ,true);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public double getQuantity()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(OrderDenormalizedFinder.quantity(), newValue, false, false ,true);
+	}
+
+	public boolean isStateNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OrderDenormalizedFinder.state(), newValue, false, false );
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isTrackingIdNull();
+	}
+
+	public String getTrackingId()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		return data.getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		zSetString(OrderDenormalizedFinder.trackingId(), newValue, false, false );
+	}
+
+	public boolean isUserIdNull()
+	{
+		return ((OrderDenormalizedData) this.zSynchronizedGetData()).isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		OrderDenormalizedData data = (OrderDenormalizedData) this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderDenormalizedFinder.userId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderDenormalizedFinder.userId(), false);
+		zNullify(behavior, data, OrderDenormalizedFinder.productId(), true);
+		zNullify(behavior, data, OrderDenormalizedFinder.quantity(), false);
+		zNullify(behavior, data, OrderDenormalizedFinder.originalPrice(), false);
+		zNullify(behavior, data, OrderDenormalizedFinder.discountPrice(), false);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(OrderDenormalizedFinder.userId(), false);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(OrderDenormalizedFinder.productId(), true);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(OrderDenormalizedFinder.quantity(), false);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zNullify(OrderDenormalizedFinder.originalPrice(), false);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zNullify(OrderDenormalizedFinder.discountPrice(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderDenormalizedData _newData = (OrderDenormalizedData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderDenormalizedData _newData = (OrderDenormalizedData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderDenormalizedData _newData = (OrderDenormalizedData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public OrderDenormalized zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderDenormalized original = (OrderDenormalized) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderDenormalizedFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderDenormalizedFinder.getMithraObjectPortal();
+	}
+
+	public OrderDenormalized getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, OrderDenormalizedFinder.description(), false);
+		changed |= zUpdateDouble(behavior, data, newData, OrderDenormalizedFinder.discountPrice(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, OrderDenormalizedFinder.orderDate(), false);
+		changed |= zUpdateDouble(behavior, data, newData, OrderDenormalizedFinder.originalPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderDenormalizedFinder.productId(), true);
+		changed |= zUpdateDouble(behavior, data, newData, OrderDenormalizedFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderDenormalizedFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderDenormalizedFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderDenormalizedFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderDenormalizedFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderDenormalizedAbstract result = (OrderDenormalizedAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
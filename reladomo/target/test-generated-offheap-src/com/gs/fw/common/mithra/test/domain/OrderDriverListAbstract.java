@@ -0,0 +1,140 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderDriverListAbstract extends DelegatingList<OrderDriver> implements MithraTransactionalList<OrderDriver>
+{
+	public OrderDriverListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderDriverListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderDriverListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderDriverListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderDriver[] elements()
+	{
+		OrderDriver[] result = new OrderDriver[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderDriverList intersection(OrderDriverList another)
+	{
+		return (OrderDriverList)super.intersection(another);
+	}
+
+	public OrderDriver getOrderDriverAt(int index)
+	{
+		return (OrderDriver)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId</pre>
+	* @return The order
+	*/
+	public OrderList getOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderDriverFinder.order());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderDriverFinder.getMithraObjectPortal();
+	}
+
+	public OrderDriverList getNonPersistentCopy()
+	{
+		OrderDriverList result = new OrderDriverList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderDriverList asAdhoc()
+	{
+		return (OrderDriverList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<OrderDriver> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OrderDriverList merge(MithraTransactionalList<OrderDriver> incoming, TopLevelMergeOptions<OrderDriver> mergeOptions)
+	{
+		return (OrderDriverList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderDriverList getDetachedCopy()
+	{
+		OrderDriverList result = new OrderDriverList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderDriverFinder.orderId(), newValue);
+	}
+}
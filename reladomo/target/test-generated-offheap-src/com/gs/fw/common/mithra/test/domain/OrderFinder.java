@@ -0,0 +1,2844 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class OrderFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Order";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Order";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Order");
+	private static final OrderSingleFinder<Order, Object, Order> finder = new OrderSingleFinder<Order, Object, Order>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[1];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[1];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byTrackingId = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(OrderFinder.OrderRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("orderStatus");
+		finderMethodMap.addRelationshipName("itemsForUserFive");
+		finderMethodMap.addRelationshipName("productsWithoutInProgress");
+		finderMethodMap.addRelationshipName("itemsWithInterfaces");
+		finderMethodMap.addRelationshipName("itemsFilterByDate");
+		finderMethodMap.addRelationshipName("orderStatusWithInterfaces");
+		finderMethodMap.addRelationshipName("parentToChildAsParent");
+		finderMethodMap.addRelationshipName("parentToChildAsChild");
+		finderMethodMap.addRelationshipName("children");
+		finderMethodMap.addRelationshipName("itemsforExistingStatus");
+		finderMethodMap.addRelationshipName("itemsOrTest");
+		finderMethodMap.addRelationshipName("itemsInTest");
+		finderMethodMap.addRelationshipName("parent");
+		constantStringSets[0] = new ConstantStringSet(Arrays.asList(new String[]
+		{
+			"In-Progress"
+		}
+
+		));
+		constantIntSets[0] = new ConstantIntSet(new int[]
+		{
+			1,2
+		}
+
+		);
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[12];
+			result[0] = OrderFinder.orderId().constructEqualityMapper(OrderItemFinder.orderId());
+			result[1] = OrderItemFinder.orderId().constructEqualityMapper(OrderFinder.orderId());
+			result[2] = OrderFinder.orderId().constructEqualityMapper(OrderStatusFinder.orderId());
+			result[3] = OrderStatusFinder.orderId().constructEqualityMapper(OrderFinder.orderId());
+			result[4] = OrderFinder.orderId().constructEqualityMapper(OrderItemWiFinder.orderId());
+			result[5] = OrderItemWiFinder.orderId().constructEqualityMapper(OrderFinder.orderId());
+			result[6] = OrderFinder.orderId().constructEqualityMapper(OrderStatusWiFinder.orderId());
+			result[7] = OrderStatusWiFinder.orderId().constructEqualityMapper(OrderFinder.orderId());
+			result[8] = OrderFinder.orderId().constructEqualityMapper(OrderParentToChildrenFinder.parentOrderId());
+			result[9] = OrderParentToChildrenFinder.parentOrderId().constructEqualityMapper(OrderFinder.orderId());
+			result[10] = OrderFinder.orderId().constructEqualityMapper(OrderParentToChildrenFinder.childOrderId());
+			result[11] = OrderParentToChildrenFinder.childOrderId().constructEqualityMapper(OrderFinder.orderId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[6];
+			result[0] = OrderFinder.userId().eq(1);
+			result[1] = OrderFinder.userId().eq(5);
+			result[2] = OrderFinder.state().eq("Gummed up");
+			result[3] = OrderFinder.userId().in(OrderFinder.zGetConstantIntSet(0));
+			result[4] = OrderFinder.state().in(OrderFinder.zGetConstantStringSet(0));
+			result[5] = OrderFinder.description().isNull();
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Order findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Order findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static OrderList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (OrderList) finder.findMany(operation);
+	}
+
+	public static OrderList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (OrderList) finder.findManyBypassCache(operation);
+	}
+
+	private static Order findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Order) FinderUtils.findOne(found);
+	}
+
+	public static Order findByPrimaryKey(int orderId)
+	{
+		return finder.findByPrimaryKey(orderId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Order findByTrackingId(String trackingId)
+	{
+		return finder.findByTrackingId(trackingId);
+	}
+
+	private static final RelationshipHashStrategy forTrackingId = new TrackingIdRhs();
+	private static final class TrackingIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getTrackingId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static Order zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Order) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class OrderRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Order, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements OrderableFinder<Order>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private OrderItemsFinderSubclass<ParentOwnerType> items;
+		private OrderOrderStatusFinderSubclass<ParentOwnerType> orderStatus;
+		private OrderItemsForUserFiveFinderSubclass<ParentOwnerType> itemsForUserFive;
+		private OrderProductsWithoutInProgressFinderSubclass<ParentOwnerType> productsWithoutInProgress;
+		private OrderItemsWithInterfacesFinderSubclass<ParentOwnerType> itemsWithInterfaces;
+		private OrderItemsFilterByDateFinderSubclass<ParentOwnerType> itemsFilterByDate;
+		private OrderOrderStatusWithInterfacesFinderSubclass<ParentOwnerType> orderStatusWithInterfaces;
+		private OrderParentToChildAsParentFinderSubclass<ParentOwnerType> parentToChildAsParent;
+		private OrderParentToChildAsChildFinderSubclass<ParentOwnerType> parentToChildAsChild;
+		private OrderChildrenFinderSubclass<ParentOwnerType> children;
+		private OrderItemsforExistingStatusFinderSubclass<ParentOwnerType> itemsforExistingStatus;
+		private OrderItemsOrTestFinderSubclass<ParentOwnerType> itemsOrTest;
+		private OrderItemsInTestFinderSubclass<ParentOwnerType> itemsInTest;
+		private OrderParentFinderSubclass<ParentOwnerType> parent;
+		public OrderRelatedFinder()
+		{
+			super();
+		}
+
+		public OrderRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.OrderFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return OrderFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return OrderFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return OrderFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(14);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.orderStatus());
+				relatedFinders.add(this.itemsForUserFive());
+				relatedFinders.add(this.productsWithoutInProgress());
+				relatedFinders.add(this.itemsWithInterfaces());
+				relatedFinders.add(this.itemsFilterByDate());
+				relatedFinders.add(this.orderStatusWithInterfaces());
+				relatedFinders.add(this.parentToChildAsParent());
+				relatedFinders.add(this.parentToChildAsChild());
+				relatedFinders.add(this.children());
+				relatedFinders.add(this.itemsforExistingStatus());
+				relatedFinders.add(this.itemsOrTest());
+				relatedFinders.add(this.itemsInTest());
+				relatedFinders.add(this.parent());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(6);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.orderStatus());
+				dependentRelatedFinders.add(this.itemsWithInterfaces());
+				dependentRelatedFinders.add(this.orderStatusWithInterfaces());
+				dependentRelatedFinders.add(this.parentToChildAsParent());
+				dependentRelatedFinders.add(this.parentToChildAsChild());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Order findOne(com.gs.fw.finder.Operation operation)
+		{
+			return OrderFinder.findOne(operation, false);
+		}
+
+		public Order findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return OrderFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Order> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new OrderList((Operation) operation);
+		}
+
+		public MithraList<? extends Order> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			OrderList result = (OrderList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Order> constructEmptyList()
+		{
+			return new OrderList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -744407479;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(OrderFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(OrderFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(OrderFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(OrderFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(OrderFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(OrderFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order> items()
+		{
+			OrderItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, Order> orderStatus()
+		{
+			OrderOrderStatusFinderSubclass<ParentOwnerType> result = this.orderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new OrderOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemSingleFinderForRelatedClasses<ParentOwnerType, OrderItem, Order> itemForProduct(int productId)
+		{
+			OrderItemForProductFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemForProductReverseMapper(productId));
+			newMapper.setToMany(false);
+			result = new OrderItemForProductFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productId);
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemSingleFinderForRelatedClasses<ParentOwnerType, OrderItem, Order> itemForProductSet(IntSet productIds)
+		{
+			OrderItemForProductSetFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemForProductSetReverseMapper(productIds));
+			newMapper.setToMany(false);
+			result = new OrderItemForProductSetFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productIds);
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order> expensiveItems(double price)
+		{
+			OrderExpensiveItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderExpensiveItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new OrderExpensiveItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, Order> cheapItems(double price)
+		{
+			OrderCheapItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderCheapItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new OrderCheapItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, Order> cheapItemsWithCheck(double price)
+		{
+			OrderCheapItemsWithCheckFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderCheapItemsWithCheckReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new OrderCheapItemsWithCheckFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, Order> itemsForUserFive()
+		{
+			OrderItemsForUserFiveFinderSubclass<ParentOwnerType> result = this.itemsForUserFive;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemsForUserFiveReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderItemsForUserFiveFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsForUserFive = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductCollectionFinderForRelatedClasses<ParentOwnerType, ProductList, Order> productsWithoutInProgress()
+		{
+			OrderProductsWithoutInProgressFinderSubclass<ParentOwnerType> result = this.productsWithoutInProgress;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderProductsWithoutInProgressReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderProductsWithoutInProgressFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productsWithoutInProgress = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemWiFinder.OrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemWiList, Order> itemsWithInterfaces()
+		{
+			OrderItemsWithInterfacesFinderSubclass<ParentOwnerType> result = this.itemsWithInterfaces;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemsWithInterfacesReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderItemsWithInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsWithInterfaces = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order> itemsFilterByDate()
+		{
+			OrderItemsFilterByDateFinderSubclass<ParentOwnerType> result = this.itemsFilterByDate;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemsFilterByDateReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderItemsFilterByDateFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsFilterByDate = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusWiFinder.OrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, OrderStatusWi, Order> orderStatusWithInterfaces()
+		{
+			OrderOrderStatusWithInterfacesFinderSubclass<ParentOwnerType> result = this.orderStatusWithInterfaces;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderOrderStatusWithInterfacesReverseMapper());
+				newMapper.setToMany(false);
+				result = new OrderOrderStatusWithInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusWithInterfaces = result;
+			}
+
+			return result;
+		}
+
+		public OrderParentToChildrenFinder.OrderParentToChildrenCollectionFinderForRelatedClasses<ParentOwnerType, OrderParentToChildrenList, Order> parentToChildAsParent()
+		{
+			OrderParentToChildAsParentFinderSubclass<ParentOwnerType> result = this.parentToChildAsParent;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderParentToChildAsParentReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderParentToChildAsParentFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parentToChildAsParent = result;
+			}
+
+			return result;
+		}
+
+		public OrderParentToChildrenFinder.OrderParentToChildrenSingleFinderForRelatedClasses<ParentOwnerType, OrderParentToChildren, Order> parentToChildAsChild()
+		{
+			OrderParentToChildAsChildFinderSubclass<ParentOwnerType> result = this.parentToChildAsChild;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderParentToChildAsChildReverseMapper());
+				newMapper.setToMany(false);
+				result = new OrderParentToChildAsChildFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parentToChildAsChild = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderCollectionFinderForRelatedClasses<ParentOwnerType, OrderList, Order> children()
+		{
+			OrderChildrenFinderSubclass<ParentOwnerType> result = this.children;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderChildrenReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderChildrenFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.children = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order> itemsforExistingStatus()
+		{
+			OrderItemsforExistingStatusFinderSubclass<ParentOwnerType> result = this.itemsforExistingStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemsforExistingStatusReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderItemsforExistingStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsforExistingStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order> itemsOrTest()
+		{
+			OrderItemsOrTestFinderSubclass<ParentOwnerType> result = this.itemsOrTest;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemsOrTestReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderItemsOrTestFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsOrTest = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order> itemsInTest()
+		{
+			OrderItemsInTestFinderSubclass<ParentOwnerType> result = this.itemsInTest;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemsInTestReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderItemsInTestFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsInTest = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, Order> parent()
+		{
+			OrderParentFinderSubclass<ParentOwnerType> result = this.parent;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderChildrenMapper());
+				newMapper.setToMany(false);
+				result = new OrderParentFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parent = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return OrderFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return OrderFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class OrderCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends OrderRelatedFinder<ParentOwnerType, ReturnType, OrderList, OwnerType>
+	{
+		public OrderCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class OrderCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends OrderCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public OrderCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class OrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends OrderRelatedFinder<ParentOwnerType, ReturnType, OrderList, OwnerType>
+	implements ToOneFinder
+	{
+		public OrderSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public OrderSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Order other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Order findByPrimaryKey(int orderId)
+		{
+			Order _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Order findByTrackingId(String trackingId)
+		{
+			Order _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (trackingId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(trackingId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forTrackingId, null, null, OrderFinder.zGetIndexbyTrackingIdRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+			if (_related == null)
+			{
+				_op = this.trackingId().eq(trackingId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class OrderSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends OrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public OrderSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetOrderItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructOrderItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetOrderItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructOrderItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetOrderItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructOrderItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemsPureReverseMapper()
+	{
+		Mapper itemsMapper = OrderFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructOrderItemsReverseMapper()
+	{
+		Mapper itemsMapper = OrderFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructOrderItemsMapper()
+	{
+		Mapper itemsMapper = OrderItemFinder.zGetConstantJoin(4);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper orderStatusReverseMapper = null;
+	public static Mapper zGetOrderOrderStatusReverseMapper()
+	{
+		if (orderStatusReverseMapper == null)
+		{
+			orderStatusReverseMapper = zConstructOrderOrderStatusReverseMapper();
+		}
+
+		return orderStatusReverseMapper;
+	}
+
+	private static Mapper orderStatusMapper = null;
+	public static Mapper zGetOrderOrderStatusMapper()
+	{
+		if (orderStatusMapper == null)
+		{
+			orderStatusMapper = zConstructOrderOrderStatusMapper();
+		}
+
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusPureReverseMapper = null;
+	public static Mapper zGetOrderOrderStatusPureReverseMapper()
+	{
+		if (orderStatusPureReverseMapper == null)
+		{
+			orderStatusPureReverseMapper = zConstructOrderOrderStatusPureReverseMapper();
+		}
+
+		return orderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderOrderStatusPureReverseMapper()
+	{
+		Mapper orderStatusMapper = OrderFinder.zGetConstantJoin(2);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructOrderOrderStatusReverseMapper()
+	{
+		Mapper orderStatusMapper = OrderFinder.zGetConstantJoin(2);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructOrderOrderStatusMapper()
+	{
+		Mapper orderStatusMapper = OrderFinder.zGetConstantJoin(3);
+		orderStatusMapper.setName("order");
+		return orderStatusMapper;
+	}
+
+	public static Mapper zGetOrderItemForProductReverseMapper(int productId)
+	{
+		return zConstructOrderItemForProductReverseMapper(productId);
+	}
+
+	public static Mapper zGetOrderItemForProductMapper(int productId)
+	{
+		return zConstructOrderItemForProductMapper(productId);
+	}
+
+	private static Mapper itemForProductPureReverseMapper = null;
+	public static Mapper zGetOrderItemForProductPureReverseMapper()
+	{
+		if (itemForProductPureReverseMapper == null)
+		{
+			itemForProductPureReverseMapper = zConstructOrderItemForProductPureReverseMapper();
+		}
+
+		return itemForProductPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemForProductPureReverseMapper()
+	{
+		Mapper itemForProductMapper = OrderFinder.zGetConstantJoin(0);
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructOrderItemForProductReverseMapper(int productId)
+	{
+		Mapper itemForProductMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper itemForProductMapper = new FilteredMapper(itemForProductMapperInnerMapper, null, OrderItemFinder.productId().eq(productId));
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructOrderItemForProductMapper(int productId)
+	{
+		Mapper itemForProductMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper itemForProductMapper = new FilteredMapper(itemForProductMapperInnerMapper, OrderItemFinder.productId().eq(productId), null);
+		itemForProductMapper.setName("itemForProduct_Reverse");
+		return itemForProductMapper;
+	}
+
+	public static Mapper zGetOrderItemForProductSetReverseMapper(IntSet productIds)
+	{
+		return zConstructOrderItemForProductSetReverseMapper(productIds);
+	}
+
+	public static Mapper zGetOrderItemForProductSetMapper(IntSet productIds)
+	{
+		return zConstructOrderItemForProductSetMapper(productIds);
+	}
+
+	private static Mapper itemForProductSetPureReverseMapper = null;
+	public static Mapper zGetOrderItemForProductSetPureReverseMapper()
+	{
+		if (itemForProductSetPureReverseMapper == null)
+		{
+			itemForProductSetPureReverseMapper = zConstructOrderItemForProductSetPureReverseMapper();
+		}
+
+		return itemForProductSetPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemForProductSetPureReverseMapper()
+	{
+		Mapper itemForProductSetMapper = OrderFinder.zGetConstantJoin(0);
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructOrderItemForProductSetReverseMapper(IntSet productIds)
+	{
+		Mapper itemForProductSetMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper itemForProductSetMapper = new FilteredMapper(itemForProductSetMapperInnerMapper, null, OrderItemFinder.productId().in(productIds));
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructOrderItemForProductSetMapper(IntSet productIds)
+	{
+		Mapper itemForProductSetMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper itemForProductSetMapper = new FilteredMapper(itemForProductSetMapperInnerMapper, OrderItemFinder.productId().in(productIds), null);
+		itemForProductSetMapper.setName("itemForProductSet_Reverse");
+		return itemForProductSetMapper;
+	}
+
+	public static Mapper zGetOrderExpensiveItemsReverseMapper(double price)
+	{
+		return zConstructOrderExpensiveItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetOrderExpensiveItemsMapper(double price)
+	{
+		return zConstructOrderExpensiveItemsMapper(price);
+	}
+
+	private static Mapper expensiveItemsPureReverseMapper = null;
+	public static Mapper zGetOrderExpensiveItemsPureReverseMapper()
+	{
+		if (expensiveItemsPureReverseMapper == null)
+		{
+			expensiveItemsPureReverseMapper = zConstructOrderExpensiveItemsPureReverseMapper();
+		}
+
+		return expensiveItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderExpensiveItemsPureReverseMapper()
+	{
+		Mapper expensiveItemsMapper = OrderFinder.zGetConstantJoin(0);
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructOrderExpensiveItemsReverseMapper(double price)
+	{
+		Mapper expensiveItemsMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, null, OrderItemFinder.originalPrice().greaterThanEquals(price));
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructOrderExpensiveItemsMapper(double price)
+	{
+		Mapper expensiveItemsMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, OrderItemFinder.originalPrice().greaterThanEquals(price), null);
+		expensiveItemsMapper.setName("expensiveItems_Reverse");
+		return expensiveItemsMapper;
+	}
+
+	public static Mapper zGetOrderCheapItemsReverseMapper(double price)
+	{
+		return zConstructOrderCheapItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetOrderCheapItemsMapper(double price)
+	{
+		return zConstructOrderCheapItemsMapper(price);
+	}
+
+	private static Mapper cheapItemsPureReverseMapper = null;
+	public static Mapper zGetOrderCheapItemsPureReverseMapper()
+	{
+		if (cheapItemsPureReverseMapper == null)
+		{
+			cheapItemsPureReverseMapper = zConstructOrderCheapItemsPureReverseMapper();
+		}
+
+		return cheapItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderCheapItemsPureReverseMapper()
+	{
+		Mapper cheapItemsMapper = OrderFinder.zGetConstantJoin(0);
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructOrderCheapItemsReverseMapper(double price)
+	{
+		Mapper cheapItemsMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, null, OrderItemFinder.originalPrice().lessThan(price));
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructOrderCheapItemsMapper(double price)
+	{
+		Mapper cheapItemsMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, OrderItemFinder.originalPrice().lessThan(price), null);
+		cheapItemsMapper.setName("cheapItems_Reverse");
+		return cheapItemsMapper;
+	}
+
+	public static Mapper zGetOrderCheapItemsWithCheckReverseMapper(double price)
+	{
+		return zConstructOrderCheapItemsWithCheckReverseMapper(price);
+	}
+
+	public static Mapper zGetOrderCheapItemsWithCheckMapper(double price)
+	{
+		return zConstructOrderCheapItemsWithCheckMapper(price);
+	}
+
+	private static Mapper cheapItemsWithCheckPureReverseMapper = null;
+	public static Mapper zGetOrderCheapItemsWithCheckPureReverseMapper()
+	{
+		if (cheapItemsWithCheckPureReverseMapper == null)
+		{
+			cheapItemsWithCheckPureReverseMapper = zConstructOrderCheapItemsWithCheckPureReverseMapper();
+		}
+
+		return cheapItemsWithCheckPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderCheapItemsWithCheckPureReverseMapper()
+	{
+		Mapper cheapItemsWithCheckMapper = OrderFinder.zGetConstantJoin(0);
+		cheapItemsWithCheckMapper.setName("cheapItemsWithCheck");
+		return cheapItemsWithCheckMapper;
+	}
+
+	private static Mapper zConstructOrderCheapItemsWithCheckReverseMapper(double price)
+	{
+		Mapper cheapItemsWithCheckMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper cheapItemsWithCheckMapper = new FilteredMapper(cheapItemsWithCheckMapperInnerMapper, OrderFinder.zGetConstantOperation(0), OrderItemFinder.originalPrice().lessThan(price));
+		cheapItemsWithCheckMapper.setName("cheapItemsWithCheck");
+		return cheapItemsWithCheckMapper;
+	}
+
+	private static Mapper zConstructOrderCheapItemsWithCheckMapper(double price)
+	{
+		Mapper cheapItemsWithCheckMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper cheapItemsWithCheckMapper = new FilteredMapper(cheapItemsWithCheckMapperInnerMapper, OrderItemFinder.originalPrice().lessThan(price), OrderFinder.zGetConstantOperation(0));
+		cheapItemsWithCheckMapper.setName("cheapItemsWithCheck_Reverse");
+		return cheapItemsWithCheckMapper;
+	}
+
+	private static Mapper itemsForUserFiveReverseMapper = null;
+	public static Mapper zGetOrderItemsForUserFiveReverseMapper()
+	{
+		if (itemsForUserFiveReverseMapper == null)
+		{
+			itemsForUserFiveReverseMapper = zConstructOrderItemsForUserFiveReverseMapper();
+		}
+
+		return itemsForUserFiveReverseMapper;
+	}
+
+	private static Mapper itemsForUserFiveMapper = null;
+	public static Mapper zGetOrderItemsForUserFiveMapper()
+	{
+		if (itemsForUserFiveMapper == null)
+		{
+			itemsForUserFiveMapper = zConstructOrderItemsForUserFiveMapper();
+		}
+
+		return itemsForUserFiveMapper;
+	}
+
+	private static Mapper itemsForUserFivePureReverseMapper = null;
+	public static Mapper zGetOrderItemsForUserFivePureReverseMapper()
+	{
+		if (itemsForUserFivePureReverseMapper == null)
+		{
+			itemsForUserFivePureReverseMapper = zConstructOrderItemsForUserFivePureReverseMapper();
+		}
+
+		return itemsForUserFivePureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemsForUserFivePureReverseMapper()
+	{
+		Mapper itemsForUserFiveMapper = OrderFinder.zGetConstantJoin(0);
+		itemsForUserFiveMapper.setName("itemsForUserFive");
+		return itemsForUserFiveMapper;
+	}
+
+	private static Mapper zConstructOrderItemsForUserFiveReverseMapper()
+	{
+		Mapper itemsForUserFiveMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper itemsForUserFiveMapper = new FilteredMapper(itemsForUserFiveMapperInnerMapper, OrderFinder.zGetConstantOperation(1), null);
+		itemsForUserFiveMapper.setName("itemsForUserFive");
+		return itemsForUserFiveMapper;
+	}
+
+	private static Mapper zConstructOrderItemsForUserFiveMapper()
+	{
+		Mapper itemsForUserFiveMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper itemsForUserFiveMapper = new FilteredMapper(itemsForUserFiveMapperInnerMapper, null, OrderFinder.zGetConstantOperation(1));
+		itemsForUserFiveMapper.setName("itemsForUserFive_Reverse");
+		return itemsForUserFiveMapper;
+	}
+
+	private static Mapper productsWithoutInProgressReverseMapper = null;
+	public static Mapper zGetOrderProductsWithoutInProgressReverseMapper()
+	{
+		if (productsWithoutInProgressReverseMapper == null)
+		{
+			productsWithoutInProgressReverseMapper = zConstructOrderProductsWithoutInProgressReverseMapper();
+		}
+
+		return productsWithoutInProgressReverseMapper;
+	}
+
+	private static Mapper productsWithoutInProgressMapper = null;
+	public static Mapper zGetOrderProductsWithoutInProgressMapper()
+	{
+		if (productsWithoutInProgressMapper == null)
+		{
+			productsWithoutInProgressMapper = zConstructOrderProductsWithoutInProgressMapper();
+		}
+
+		return productsWithoutInProgressMapper;
+	}
+
+	private static Mapper productsWithoutInProgressPureReverseMapper = null;
+	public static Mapper zGetOrderProductsWithoutInProgressPureReverseMapper()
+	{
+		if (productsWithoutInProgressPureReverseMapper == null)
+		{
+			productsWithoutInProgressPureReverseMapper = zConstructOrderProductsWithoutInProgressPureReverseMapper();
+		}
+
+		return productsWithoutInProgressPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderProductsWithoutInProgressPureReverseMapper()
+	{
+		Mapper productsWithoutInProgressc0Mapper = OrderFinder.zGetConstantJoin(0);
+		Mapper productsWithoutInProgressc1Mapper = OrderItemFinder.zGetConstantJoin(0);
+		Mapper productsWithoutInProgressMapper = new ChainedMapper(productsWithoutInProgressc0Mapper,productsWithoutInProgressc1Mapper);
+		productsWithoutInProgressMapper.setName("productsWithoutInProgress");
+		return productsWithoutInProgressMapper;
+	}
+
+	private static Mapper zConstructOrderProductsWithoutInProgressReverseMapper()
+	{
+		Mapper productsWithoutInProgressc0MapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper productsWithoutInProgressc0Mapper = new FilteredMapper(productsWithoutInProgressc0MapperInnerMapper, null, OrderItemFinder.zGetConstantOperation(0).and(OrderItemFinder.zGetConstantOperation(1)));
+		Mapper productsWithoutInProgressc1Mapper = OrderItemFinder.zGetConstantJoin(0);
+		Mapper productsWithoutInProgressMapper = new ChainedMapper(productsWithoutInProgressc0Mapper,productsWithoutInProgressc1Mapper);
+		productsWithoutInProgressMapper.setName("productsWithoutInProgress");
+		return productsWithoutInProgressMapper;
+	}
+
+	private static Mapper zConstructOrderProductsWithoutInProgressMapper()
+	{
+		Mapper productsWithoutInProgressc0Mapper = OrderItemFinder.zGetConstantJoin(1);
+		Mapper productsWithoutInProgressc1MapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper productsWithoutInProgressc1Mapper = new FilteredMapper(productsWithoutInProgressc1MapperInnerMapper, OrderItemFinder.zGetConstantOperation(0).and(OrderItemFinder.zGetConstantOperation(1)), null);
+		Mapper productsWithoutInProgressMapper = new ChainedMapper(productsWithoutInProgressc0Mapper,productsWithoutInProgressc1Mapper);
+		productsWithoutInProgressMapper.setName("productsWithoutInProgress_Reverse");
+		return productsWithoutInProgressMapper;
+	}
+
+	private static Mapper productsWithoutInProgressMapperFragment = null;
+	public static Mapper zGetProductsWithoutInProgressMapperFragment()
+	{
+		if (productsWithoutInProgressMapperFragment == null)
+		{
+			productsWithoutInProgressMapperFragment = zConstructProductsWithoutInProgressMapperFragment();
+		}
+
+		return productsWithoutInProgressMapperFragment;
+	}
+
+	private static Mapper zConstructProductsWithoutInProgressMapperFragment()
+	{
+		return OrderItemFinder.zGetConstantJoin(1);
+	}
+
+	private static Mapper itemsWithInterfacesReverseMapper = null;
+	public static Mapper zGetOrderItemsWithInterfacesReverseMapper()
+	{
+		if (itemsWithInterfacesReverseMapper == null)
+		{
+			itemsWithInterfacesReverseMapper = zConstructOrderItemsWithInterfacesReverseMapper();
+		}
+
+		return itemsWithInterfacesReverseMapper;
+	}
+
+	private static Mapper itemsWithInterfacesMapper = null;
+	public static Mapper zGetOrderItemsWithInterfacesMapper()
+	{
+		if (itemsWithInterfacesMapper == null)
+		{
+			itemsWithInterfacesMapper = zConstructOrderItemsWithInterfacesMapper();
+		}
+
+		return itemsWithInterfacesMapper;
+	}
+
+	private static Mapper itemsWithInterfacesPureReverseMapper = null;
+	public static Mapper zGetOrderItemsWithInterfacesPureReverseMapper()
+	{
+		if (itemsWithInterfacesPureReverseMapper == null)
+		{
+			itemsWithInterfacesPureReverseMapper = zConstructOrderItemsWithInterfacesPureReverseMapper();
+		}
+
+		return itemsWithInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemsWithInterfacesPureReverseMapper()
+	{
+		Mapper itemsWithInterfacesMapper = OrderFinder.zGetConstantJoin(4);
+		itemsWithInterfacesMapper.setName("itemsWithInterfaces");
+		return itemsWithInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderItemsWithInterfacesReverseMapper()
+	{
+		Mapper itemsWithInterfacesMapper = OrderFinder.zGetConstantJoin(4);
+		itemsWithInterfacesMapper.setName("itemsWithInterfaces");
+		return itemsWithInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderItemsWithInterfacesMapper()
+	{
+		Mapper itemsWithInterfacesMapper = OrderFinder.zGetConstantJoin(5);
+		itemsWithInterfacesMapper.setName("orderWithoutInterface");
+		return itemsWithInterfacesMapper;
+	}
+
+	private static Mapper itemsFilterByDateReverseMapper = null;
+	public static Mapper zGetOrderItemsFilterByDateReverseMapper()
+	{
+		if (itemsFilterByDateReverseMapper == null)
+		{
+			itemsFilterByDateReverseMapper = zConstructOrderItemsFilterByDateReverseMapper();
+		}
+
+		return itemsFilterByDateReverseMapper;
+	}
+
+	private static Mapper itemsFilterByDateMapper = null;
+	public static Mapper zGetOrderItemsFilterByDateMapper()
+	{
+		if (itemsFilterByDateMapper == null)
+		{
+			itemsFilterByDateMapper = zConstructOrderItemsFilterByDateMapper();
+		}
+
+		return itemsFilterByDateMapper;
+	}
+
+	private static Mapper itemsFilterByDatePureReverseMapper = null;
+	public static Mapper zGetOrderItemsFilterByDatePureReverseMapper()
+	{
+		if (itemsFilterByDatePureReverseMapper == null)
+		{
+			itemsFilterByDatePureReverseMapper = zConstructOrderItemsFilterByDatePureReverseMapper();
+		}
+
+		return itemsFilterByDatePureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemsFilterByDatePureReverseMapper()
+	{
+		Mapper itemsFilterByDateMapper = OrderFinder.zGetConstantJoin(0);
+		itemsFilterByDateMapper.setName("itemsFilterByDate");
+		return itemsFilterByDateMapper;
+	}
+
+	private static Mapper zConstructOrderItemsFilterByDateReverseMapper()
+	{
+		Mapper itemsFilterByDateMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper itemsFilterByDateMapper = new FilteredMapper(itemsFilterByDateMapperInnerMapper, OrderFinder.orderDate().eq(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), null);
+		itemsFilterByDateMapper.setName("itemsFilterByDate");
+		return itemsFilterByDateMapper;
+	}
+
+	private static Mapper zConstructOrderItemsFilterByDateMapper()
+	{
+		Mapper itemsFilterByDateMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper itemsFilterByDateMapper = new FilteredMapper(itemsFilterByDateMapperInnerMapper, null, OrderFinder.orderDate().eq(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()));
+		itemsFilterByDateMapper.setName("itemsFilterByDate_Reverse");
+		return itemsFilterByDateMapper;
+	}
+
+	private static Mapper orderStatusWithInterfacesReverseMapper = null;
+	public static Mapper zGetOrderOrderStatusWithInterfacesReverseMapper()
+	{
+		if (orderStatusWithInterfacesReverseMapper == null)
+		{
+			orderStatusWithInterfacesReverseMapper = zConstructOrderOrderStatusWithInterfacesReverseMapper();
+		}
+
+		return orderStatusWithInterfacesReverseMapper;
+	}
+
+	private static Mapper orderStatusWithInterfacesMapper = null;
+	public static Mapper zGetOrderOrderStatusWithInterfacesMapper()
+	{
+		if (orderStatusWithInterfacesMapper == null)
+		{
+			orderStatusWithInterfacesMapper = zConstructOrderOrderStatusWithInterfacesMapper();
+		}
+
+		return orderStatusWithInterfacesMapper;
+	}
+
+	private static Mapper orderStatusWithInterfacesPureReverseMapper = null;
+	public static Mapper zGetOrderOrderStatusWithInterfacesPureReverseMapper()
+	{
+		if (orderStatusWithInterfacesPureReverseMapper == null)
+		{
+			orderStatusWithInterfacesPureReverseMapper = zConstructOrderOrderStatusWithInterfacesPureReverseMapper();
+		}
+
+		return orderStatusWithInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderOrderStatusWithInterfacesPureReverseMapper()
+	{
+		Mapper orderStatusWithInterfacesMapper = OrderFinder.zGetConstantJoin(6);
+		orderStatusWithInterfacesMapper.setName("orderStatusWithInterfaces");
+		return orderStatusWithInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderOrderStatusWithInterfacesReverseMapper()
+	{
+		Mapper orderStatusWithInterfacesMapper = OrderFinder.zGetConstantJoin(6);
+		orderStatusWithInterfacesMapper.setName("orderStatusWithInterfaces");
+		return orderStatusWithInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderOrderStatusWithInterfacesMapper()
+	{
+		Mapper orderStatusWithInterfacesMapper = OrderFinder.zGetConstantJoin(7);
+		orderStatusWithInterfacesMapper.setName("orderWithoutInterface");
+		return orderStatusWithInterfacesMapper;
+	}
+
+	private static Mapper parentToChildAsParentReverseMapper = null;
+	public static Mapper zGetOrderParentToChildAsParentReverseMapper()
+	{
+		if (parentToChildAsParentReverseMapper == null)
+		{
+			parentToChildAsParentReverseMapper = zConstructOrderParentToChildAsParentReverseMapper();
+		}
+
+		return parentToChildAsParentReverseMapper;
+	}
+
+	private static Mapper parentToChildAsParentMapper = null;
+	public static Mapper zGetOrderParentToChildAsParentMapper()
+	{
+		if (parentToChildAsParentMapper == null)
+		{
+			parentToChildAsParentMapper = zConstructOrderParentToChildAsParentMapper();
+		}
+
+		return parentToChildAsParentMapper;
+	}
+
+	private static Mapper parentToChildAsParentPureReverseMapper = null;
+	public static Mapper zGetOrderParentToChildAsParentPureReverseMapper()
+	{
+		if (parentToChildAsParentPureReverseMapper == null)
+		{
+			parentToChildAsParentPureReverseMapper = zConstructOrderParentToChildAsParentPureReverseMapper();
+		}
+
+		return parentToChildAsParentPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderParentToChildAsParentPureReverseMapper()
+	{
+		Mapper parentToChildAsParentMapper = OrderFinder.zGetConstantJoin(8);
+		parentToChildAsParentMapper.setName("parentToChildAsParent");
+		return parentToChildAsParentMapper;
+	}
+
+	private static Mapper zConstructOrderParentToChildAsParentReverseMapper()
+	{
+		Mapper parentToChildAsParentMapper = OrderFinder.zGetConstantJoin(8);
+		parentToChildAsParentMapper.setName("parentToChildAsParent");
+		return parentToChildAsParentMapper;
+	}
+
+	private static Mapper zConstructOrderParentToChildAsParentMapper()
+	{
+		Mapper parentToChildAsParentMapper = OrderFinder.zGetConstantJoin(9);
+		parentToChildAsParentMapper.setName("parentOrder");
+		return parentToChildAsParentMapper;
+	}
+
+	private static Mapper parentToChildAsChildReverseMapper = null;
+	public static Mapper zGetOrderParentToChildAsChildReverseMapper()
+	{
+		if (parentToChildAsChildReverseMapper == null)
+		{
+			parentToChildAsChildReverseMapper = zConstructOrderParentToChildAsChildReverseMapper();
+		}
+
+		return parentToChildAsChildReverseMapper;
+	}
+
+	private static Mapper parentToChildAsChildMapper = null;
+	public static Mapper zGetOrderParentToChildAsChildMapper()
+	{
+		if (parentToChildAsChildMapper == null)
+		{
+			parentToChildAsChildMapper = zConstructOrderParentToChildAsChildMapper();
+		}
+
+		return parentToChildAsChildMapper;
+	}
+
+	private static Mapper parentToChildAsChildPureReverseMapper = null;
+	public static Mapper zGetOrderParentToChildAsChildPureReverseMapper()
+	{
+		if (parentToChildAsChildPureReverseMapper == null)
+		{
+			parentToChildAsChildPureReverseMapper = zConstructOrderParentToChildAsChildPureReverseMapper();
+		}
+
+		return parentToChildAsChildPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderParentToChildAsChildPureReverseMapper()
+	{
+		Mapper parentToChildAsChildMapper = OrderFinder.zGetConstantJoin(10);
+		parentToChildAsChildMapper.setName("parentToChildAsChild");
+		return parentToChildAsChildMapper;
+	}
+
+	private static Mapper zConstructOrderParentToChildAsChildReverseMapper()
+	{
+		Mapper parentToChildAsChildMapper = OrderFinder.zGetConstantJoin(10);
+		parentToChildAsChildMapper.setName("parentToChildAsChild");
+		return parentToChildAsChildMapper;
+	}
+
+	private static Mapper zConstructOrderParentToChildAsChildMapper()
+	{
+		Mapper parentToChildAsChildMapper = OrderParentToChildrenFinder.zGetConstantJoin(0);
+		parentToChildAsChildMapper.setName("childOrder");
+		return parentToChildAsChildMapper;
+	}
+
+	private static Mapper childrenReverseMapper = null;
+	public static Mapper zGetOrderChildrenReverseMapper()
+	{
+		if (childrenReverseMapper == null)
+		{
+			childrenReverseMapper = zConstructOrderChildrenReverseMapper();
+		}
+
+		return childrenReverseMapper;
+	}
+
+	private static Mapper childrenMapper = null;
+	public static Mapper zGetOrderChildrenMapper()
+	{
+		if (childrenMapper == null)
+		{
+			childrenMapper = zConstructOrderChildrenMapper();
+		}
+
+		return childrenMapper;
+	}
+
+	private static Mapper childrenPureReverseMapper = null;
+	public static Mapper zGetOrderChildrenPureReverseMapper()
+	{
+		if (childrenPureReverseMapper == null)
+		{
+			childrenPureReverseMapper = zConstructOrderChildrenPureReverseMapper();
+		}
+
+		return childrenPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderChildrenPureReverseMapper()
+	{
+		Mapper childrenc0Mapper = OrderFinder.zGetConstantJoin(8);
+		Mapper childrenc1Mapper = OrderParentToChildrenFinder.zGetConstantJoin(0);
+		Mapper childrenMapper = new ChainedMapper(childrenc0Mapper,childrenc1Mapper);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructOrderChildrenReverseMapper()
+	{
+		Mapper childrenc0Mapper = OrderFinder.zGetConstantJoin(8);
+		Mapper childrenc1Mapper = OrderParentToChildrenFinder.zGetConstantJoin(0);
+		Mapper childrenMapper = new ChainedMapper(childrenc0Mapper,childrenc1Mapper);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructOrderChildrenMapper()
+	{
+		Mapper childrenc0Mapper = OrderFinder.zGetConstantJoin(10);
+		Mapper childrenc1Mapper = OrderFinder.zGetConstantJoin(9);
+		Mapper childrenMapper = new ChainedMapper(childrenc0Mapper,childrenc1Mapper);
+		childrenMapper.setName("parent");
+		return childrenMapper;
+	}
+
+	private static Mapper childrenMapperFragment = null;
+	public static Mapper zGetChildrenMapperFragment()
+	{
+		if (childrenMapperFragment == null)
+		{
+			childrenMapperFragment = zConstructChildrenMapperFragment();
+		}
+
+		return childrenMapperFragment;
+	}
+
+	private static Mapper zConstructChildrenMapperFragment()
+	{
+		return OrderFinder.zGetConstantJoin(10);
+	}
+
+	private static Mapper itemsforExistingStatusReverseMapper = null;
+	public static Mapper zGetOrderItemsforExistingStatusReverseMapper()
+	{
+		if (itemsforExistingStatusReverseMapper == null)
+		{
+			itemsforExistingStatusReverseMapper = zConstructOrderItemsforExistingStatusReverseMapper();
+		}
+
+		return itemsforExistingStatusReverseMapper;
+	}
+
+	private static Mapper itemsforExistingStatusMapper = null;
+	public static Mapper zGetOrderItemsforExistingStatusMapper()
+	{
+		if (itemsforExistingStatusMapper == null)
+		{
+			itemsforExistingStatusMapper = zConstructOrderItemsforExistingStatusMapper();
+		}
+
+		return itemsforExistingStatusMapper;
+	}
+
+	private static Mapper itemsforExistingStatusPureReverseMapper = null;
+	public static Mapper zGetOrderItemsforExistingStatusPureReverseMapper()
+	{
+		if (itemsforExistingStatusPureReverseMapper == null)
+		{
+			itemsforExistingStatusPureReverseMapper = zConstructOrderItemsforExistingStatusPureReverseMapper();
+		}
+
+		return itemsforExistingStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemsforExistingStatusPureReverseMapper()
+	{
+		Mapper itemsforExistingStatusb0Mapper = OrderFinder.zGetConstantJoin(0);
+		Mapper itemsforExistingStatusb1Mapper = OrderFinder.zGetConstantJoin(2);
+		Mapper itemsforExistingStatusMapper = new FilteredMapper(itemsforExistingStatusb0Mapper, new MappedOperation(itemsforExistingStatusb1Mapper, new All(itemsforExistingStatusb1Mapper.getAnyRightAttribute())), null);
+		itemsforExistingStatusMapper.setName("itemsforExistingStatus");
+		return itemsforExistingStatusMapper;
+	}
+
+	private static Mapper zConstructOrderItemsforExistingStatusReverseMapper()
+	{
+		Mapper itemsforExistingStatusb0Mapper = OrderFinder.zGetConstantJoin(0);
+		Mapper itemsforExistingStatusb1Mapper = OrderFinder.zGetConstantJoin(2);
+		Mapper itemsforExistingStatusMapper = new FilteredMapper(itemsforExistingStatusb0Mapper, new MappedOperation(itemsforExistingStatusb1Mapper, new All(itemsforExistingStatusb1Mapper.getAnyRightAttribute())), null);
+		itemsforExistingStatusMapper.setName("itemsforExistingStatus");
+		return itemsforExistingStatusMapper;
+	}
+
+	private static Mapper zConstructOrderItemsforExistingStatusMapper()
+	{
+		Mapper itemsforExistingStatuspMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper itemsforExistingStatusb0Mapper = OrderFinder.zGetConstantJoin(2);
+		Mapper itemsforExistingStatusMapper = new FilteredMapper(itemsforExistingStatuspMapper, null, new MappedOperation(itemsforExistingStatusb0Mapper, new All(itemsforExistingStatusb0Mapper.getAnyRightAttribute())));
+		itemsforExistingStatusMapper.setName("itemsforExistingStatus_Reverse");
+		return itemsforExistingStatusMapper;
+	}
+
+	private static Mapper itemsOrTestReverseMapper = null;
+	public static Mapper zGetOrderItemsOrTestReverseMapper()
+	{
+		if (itemsOrTestReverseMapper == null)
+		{
+			itemsOrTestReverseMapper = zConstructOrderItemsOrTestReverseMapper();
+		}
+
+		return itemsOrTestReverseMapper;
+	}
+
+	private static Mapper itemsOrTestMapper = null;
+	public static Mapper zGetOrderItemsOrTestMapper()
+	{
+		if (itemsOrTestMapper == null)
+		{
+			itemsOrTestMapper = zConstructOrderItemsOrTestMapper();
+		}
+
+		return itemsOrTestMapper;
+	}
+
+	private static Mapper itemsOrTestPureReverseMapper = null;
+	public static Mapper zGetOrderItemsOrTestPureReverseMapper()
+	{
+		if (itemsOrTestPureReverseMapper == null)
+		{
+			itemsOrTestPureReverseMapper = zConstructOrderItemsOrTestPureReverseMapper();
+		}
+
+		return itemsOrTestPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemsOrTestPureReverseMapper()
+	{
+		Mapper itemsOrTestMapper = OrderFinder.zGetConstantJoin(0);
+		itemsOrTestMapper.setName("itemsOrTest");
+		return itemsOrTestMapper;
+	}
+
+	private static Mapper zConstructOrderItemsOrTestReverseMapper()
+	{
+		Mapper itemsOrTestMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper itemsOrTestMapper = new FilteredMapper(itemsOrTestMapperInnerMapper, OrderFinder.zGetConstantOperation(0).or(OrderFinder.zGetConstantOperation(2)), null);
+		itemsOrTestMapper.setName("itemsOrTest");
+		return itemsOrTestMapper;
+	}
+
+	private static Mapper zConstructOrderItemsOrTestMapper()
+	{
+		Mapper itemsOrTestMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper itemsOrTestMapper = new FilteredMapper(itemsOrTestMapperInnerMapper, null, OrderFinder.zGetConstantOperation(0).or(OrderFinder.zGetConstantOperation(2)));
+		itemsOrTestMapper.setName("itemsOrTest_Reverse");
+		return itemsOrTestMapper;
+	}
+
+	private static Mapper itemsInTestReverseMapper = null;
+	public static Mapper zGetOrderItemsInTestReverseMapper()
+	{
+		if (itemsInTestReverseMapper == null)
+		{
+			itemsInTestReverseMapper = zConstructOrderItemsInTestReverseMapper();
+		}
+
+		return itemsInTestReverseMapper;
+	}
+
+	private static Mapper itemsInTestMapper = null;
+	public static Mapper zGetOrderItemsInTestMapper()
+	{
+		if (itemsInTestMapper == null)
+		{
+			itemsInTestMapper = zConstructOrderItemsInTestMapper();
+		}
+
+		return itemsInTestMapper;
+	}
+
+	private static Mapper itemsInTestPureReverseMapper = null;
+	public static Mapper zGetOrderItemsInTestPureReverseMapper()
+	{
+		if (itemsInTestPureReverseMapper == null)
+		{
+			itemsInTestPureReverseMapper = zConstructOrderItemsInTestPureReverseMapper();
+		}
+
+		return itemsInTestPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemsInTestPureReverseMapper()
+	{
+		Mapper itemsInTestMapper = OrderFinder.zGetConstantJoin(0);
+		itemsInTestMapper.setName("itemsInTest");
+		return itemsInTestMapper;
+	}
+
+	private static Mapper zConstructOrderItemsInTestReverseMapper()
+	{
+		Mapper itemsInTestMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper itemsInTestMapper = new FilteredMapper(itemsInTestMapperInnerMapper, OrderFinder.zGetConstantOperation(3).or(OrderFinder.zGetConstantOperation(4)), null);
+		itemsInTestMapper.setName("itemsInTest");
+		return itemsInTestMapper;
+	}
+
+	private static Mapper zConstructOrderItemsInTestMapper()
+	{
+		Mapper itemsInTestMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper itemsInTestMapper = new FilteredMapper(itemsInTestMapperInnerMapper, null, OrderFinder.zGetConstantOperation(3).or(OrderFinder.zGetConstantOperation(4)));
+		itemsInTestMapper.setName("itemsInTest_Reverse");
+		return itemsInTestMapper;
+	}
+
+	private static Mapper parentMapperFragment = null;
+	public static Mapper zGetParentMapperFragment()
+	{
+		if (parentMapperFragment == null)
+		{
+			parentMapperFragment = zConstructParentMapperFragment();
+		}
+
+		return parentMapperFragment;
+	}
+
+	private static Mapper zConstructParentMapperFragment()
+	{
+		return OrderFinder.zGetConstantJoin(8);
+	}
+
+	/** maps to ORDERS.ORDER_ID **/
+	public static IntegerAttribute<Order> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to ORDERS.ORDER_DATE **/
+	public static TimestampAttribute<Order> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to ORDERS.USER_ID **/
+	public static IntegerAttribute<Order> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to ORDERS.DESCRIPTION **/
+	public static StringAttribute<Order> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to ORDERS."STATE" **/
+	public static StringAttribute<Order> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to ORDERS.TRACKING_ID **/
+	public static StringAttribute<Order> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<Order, OrderItemList, Order> items()
+	{
+		return finder.items();
+	}
+
+	public static class OrderItemsFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order>
+	{
+		public OrderItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Order) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected OrderItemList plainValueOf(Order _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getItems();
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<Order, OrderStatus, Order> orderStatus()
+	{
+		return finder.orderStatus();
+	}
+
+	public static class OrderOrderStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, Order>
+	{
+		public OrderOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Order) _obj).isOrderStatusModifiedSinceDetachment();
+		}
+
+		protected OrderStatus plainValueOf(Order _obj)
+		{
+			return _obj.getOrderStatus();
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getOrderStatus();
+		}
+	}
+
+	public static OrderItemFinder.OrderItemSingleFinderForRelatedClasses<Order, OrderItem, Order> itemForProduct(int productId)
+	{
+		return finder.itemForProduct(productId);
+	}
+
+	public static class OrderItemForProductFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemSingleFinderForRelatedClasses<ParentOwnerType, OrderItem, Order>
+	{
+		private int productId;
+		public OrderItemForProductFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int productId)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productId = productId;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "itemForProduct";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemForProductFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productId
+			);
+		}
+
+		protected OrderItem plainValueOf(Order _obj)
+		{
+			return _obj.getItemForProduct(productId);
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getItemForProducts(productId);
+		}
+	}
+
+	public static OrderItemFinder.OrderItemSingleFinderForRelatedClasses<Order, OrderItem, Order> itemForProductSet(IntSet productIds)
+	{
+		return finder.itemForProductSet(productIds);
+	}
+
+	public static class OrderItemForProductSetFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemSingleFinderForRelatedClasses<ParentOwnerType, OrderItem, Order>
+	{
+		private IntSet productIds;
+		public OrderItemForProductSetFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , IntSet productIds)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productIds = productIds;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "itemForProductSet";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemForProductSetFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productIds
+			);
+		}
+
+		protected OrderItem plainValueOf(Order _obj)
+		{
+			return _obj.getItemForProductSet(productIds);
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getItemForProductSets(productIds);
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<Order, OrderItemList, Order> expensiveItems(double price)
+	{
+		return finder.expensiveItems(price);
+	}
+
+	public static class OrderExpensiveItemsFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order>
+	{
+		private double price;
+		public OrderExpensiveItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "expensiveItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderExpensiveItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected OrderItemList plainValueOf(Order _obj)
+		{
+			return _obj.getExpensiveItems(price);
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getExpensiveItems(price);
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<Order, List, Order> cheapItems(double price)
+	{
+		return finder.cheapItems(price);
+	}
+
+	public static class OrderCheapItemsFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, Order>
+	{
+		private double price;
+		public OrderCheapItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderCheapItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected List plainValueOf(Order _obj)
+		{
+			return _obj.getCheapItems(price);
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getCheapItems(price);
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<Order, List, Order> cheapItemsWithCheck(double price)
+	{
+		return finder.cheapItemsWithCheck(price);
+	}
+
+	public static class OrderCheapItemsWithCheckFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, Order>
+	{
+		private double price;
+		public OrderCheapItemsWithCheckFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItemsWithCheck";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderCheapItemsWithCheckFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected List plainValueOf(Order _obj)
+		{
+			return _obj.getCheapItemsWithCheck(price);
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getCheapItemsWithCheck(price);
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<Order, List, Order> itemsForUserFive()
+	{
+		return finder.itemsForUserFive();
+	}
+
+	public static class OrderItemsForUserFiveFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, Order>
+	{
+		public OrderItemsForUserFiveFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsForUserFive";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemsForUserFiveFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected List plainValueOf(Order _obj)
+		{
+			return _obj.getItemsForUserFive();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getItemsForUserFive();
+		}
+	}
+
+	public static ProductFinder.ProductCollectionFinderForRelatedClasses<Order, ProductList, Order> productsWithoutInProgress()
+	{
+		return finder.productsWithoutInProgress();
+	}
+
+	public static class OrderProductsWithoutInProgressFinderSubclass<ParentOwnerType> extends ProductFinder.ProductCollectionFinderForRelatedClasses<ParentOwnerType, ProductList, Order>
+	{
+		public OrderProductsWithoutInProgressFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "productsWithoutInProgress";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderProductsWithoutInProgressFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductList plainValueOf(Order _obj)
+		{
+			return _obj.getProductsWithoutInProgress();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getProductsWithoutInProgress();
+		}
+	}
+
+	public static OrderItemWiFinder.OrderItemWiCollectionFinderForRelatedClasses<Order, OrderItemWiList, Order> itemsWithInterfaces()
+	{
+		return finder.itemsWithInterfaces();
+	}
+
+	public static class OrderItemsWithInterfacesFinderSubclass<ParentOwnerType> extends OrderItemWiFinder.OrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemWiList, Order>
+	{
+		public OrderItemsWithInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsWithInterfaces";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemsWithInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Order) _obj).isItemsWithInterfacesModifiedSinceDetachment();
+		}
+
+		protected OrderItemWiList plainValueOf(Order _obj)
+		{
+			return _obj.getItemsWithInterfaces();
+		}
+
+		protected OrderItemWiList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getItemsWithInterfaces();
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<Order, OrderItemList, Order> itemsFilterByDate()
+	{
+		return finder.itemsFilterByDate();
+	}
+
+	public static class OrderItemsFilterByDateFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order>
+	{
+		public OrderItemsFilterByDateFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsFilterByDate";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemsFilterByDateFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderItemList plainValueOf(Order _obj)
+		{
+			return _obj.getItemsFilterByDate();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getItemsFilterByDate();
+		}
+	}
+
+	public static OrderStatusWiFinder.OrderStatusWiSingleFinderForRelatedClasses<Order, OrderStatusWi, Order> orderStatusWithInterfaces()
+	{
+		return finder.orderStatusWithInterfaces();
+	}
+
+	public static class OrderOrderStatusWithInterfacesFinderSubclass<ParentOwnerType> extends OrderStatusWiFinder.OrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, OrderStatusWi, Order>
+	{
+		public OrderOrderStatusWithInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatusWithInterfaces";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderOrderStatusWithInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Order) _obj).isOrderStatusWithInterfacesModifiedSinceDetachment();
+		}
+
+		protected OrderStatusWi plainValueOf(Order _obj)
+		{
+			return _obj.getOrderStatusWithInterfaces();
+		}
+
+		protected OrderStatusWiList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getOrderStatusWithInterfaces();
+		}
+	}
+
+	public static OrderParentToChildrenFinder.OrderParentToChildrenCollectionFinderForRelatedClasses<Order, OrderParentToChildrenList, Order> parentToChildAsParent()
+	{
+		return finder.parentToChildAsParent();
+	}
+
+	public static class OrderParentToChildAsParentFinderSubclass<ParentOwnerType> extends OrderParentToChildrenFinder.OrderParentToChildrenCollectionFinderForRelatedClasses<ParentOwnerType, OrderParentToChildrenList, Order>
+	{
+		public OrderParentToChildAsParentFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "parentToChildAsParent";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderParentToChildAsParentFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Order) _obj).isParentToChildAsParentModifiedSinceDetachment();
+		}
+
+		protected OrderParentToChildrenList plainValueOf(Order _obj)
+		{
+			return _obj.getParentToChildAsParent();
+		}
+
+		protected OrderParentToChildrenList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getParentToChildAsParent();
+		}
+	}
+
+	public static OrderParentToChildrenFinder.OrderParentToChildrenSingleFinderForRelatedClasses<Order, OrderParentToChildren, Order> parentToChildAsChild()
+	{
+		return finder.parentToChildAsChild();
+	}
+
+	public static class OrderParentToChildAsChildFinderSubclass<ParentOwnerType> extends OrderParentToChildrenFinder.OrderParentToChildrenSingleFinderForRelatedClasses<ParentOwnerType, OrderParentToChildren, Order>
+	{
+		public OrderParentToChildAsChildFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parentToChildAsChild";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderParentToChildAsChildFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Order) _obj).isParentToChildAsChildModifiedSinceDetachment();
+		}
+
+		protected OrderParentToChildren plainValueOf(Order _obj)
+		{
+			return _obj.getParentToChildAsChild();
+		}
+
+		protected OrderParentToChildrenList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getParentToChildAsChilds();
+		}
+	}
+
+	public static OrderFinder.OrderCollectionFinderForRelatedClasses<Order, OrderList, Order> children()
+	{
+		return finder.children();
+	}
+
+	public static class OrderChildrenFinderSubclass<ParentOwnerType> extends OrderFinder.OrderCollectionFinderForRelatedClasses<ParentOwnerType, OrderList, Order>
+	{
+		public OrderChildrenFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "children";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderChildrenFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderList plainValueOf(Order _obj)
+		{
+			return _obj.getChildren();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getChildren();
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<Order, OrderItemList, Order> itemsforExistingStatus()
+	{
+		return finder.itemsforExistingStatus();
+	}
+
+	public static class OrderItemsforExistingStatusFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order>
+	{
+		public OrderItemsforExistingStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "itemsforExistingStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemsforExistingStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderItemList plainValueOf(Order _obj)
+		{
+			return _obj.getItemsforExistingStatus();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getItemsforExistingStatus();
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<Order, OrderItemList, Order> itemsOrTest()
+	{
+		return finder.itemsOrTest();
+	}
+
+	public static class OrderItemsOrTestFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order>
+	{
+		public OrderItemsOrTestFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsOrTest";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemsOrTestFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderItemList plainValueOf(Order _obj)
+		{
+			return _obj.getItemsOrTest();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getItemsOrTest();
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<Order, OrderItemList, Order> itemsInTest()
+	{
+		return finder.itemsInTest();
+	}
+
+	public static class OrderItemsInTestFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, Order>
+	{
+		public OrderItemsInTestFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsInTest";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemsInTestFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderItemList plainValueOf(Order _obj)
+		{
+			return _obj.getItemsInTest();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getItemsInTest();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<Order, Order, Order> parent()
+	{
+		return finder.parent();
+	}
+
+	public static class OrderParentFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, Order>
+	{
+		public OrderParentFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "parent";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderParentFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(Order _obj)
+		{
+			return _obj.getParent();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderList)_obj).getParents();
+		}
+	}
+
+	public static Operation eq(Order other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static OrderSingleFinder<Order, Object, Order> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("byUserId", new Attribute[] 
+		{
+			userId()
+		}
+
+		);
+		cache.addIndex("byState", new Attribute[] 
+		{
+			state()
+		}
+
+		);
+		cache.addIndex("byStateWithBadSpacing", new Attribute[] 
+		{
+			state()
+		}
+
+		);
+		cache.addIndex("byStateWithBadSpacing2", new Attribute[] 
+		{
+			state()
+		}
+
+		);
+		INDEX_byTrackingId = cache.addUniqueIndex("byTrackingId", new Attribute[] 
+		{
+			trackingId()
+		}
+
+		);
+		cache.addIndex("5 Index", new Attribute[] 
+		{
+			orderDate()
+			, orderId()
+		}
+
+		);
+		cache.addIndex("6 Index", new Attribute[] 
+		{
+			orderId()
+			, userId()
+		}
+
+		);
+		cache.addIndex("7 Index", new Attribute[] 
+		{
+			description()
+			, orderId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyTrackingIdRef() 
+	{
+		return INDEX_byTrackingId; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderDriverFinder.getFinderInstance(),PureOrderFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderDriverFinder.getFinderInstance(),PureOrderFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Order");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
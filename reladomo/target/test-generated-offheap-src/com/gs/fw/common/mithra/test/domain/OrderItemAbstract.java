@@ -0,0 +1,1866 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+implements
+OrderItemInterface
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OrderItem.class.getName());
+	private static final RelationshipHashStrategy forproductInfo = new ProductInfoRhs();
+	private static final RelationshipHashStrategy fororderItemStatus = new OrderItemStatusRhs();
+	private static final RelationshipHashStrategy fornullTestOrder = new NullTestOrderRhs();
+	private static final RelationshipHashStrategy fororderWithOr = new OrderWithOrRhs();
+	private static final RelationshipHashStrategy fororderWithIsNull = new OrderWithIsNullRhs();
+	private static final RelationshipHashStrategy fororderWithOrIsNull = new OrderWithOrIsNullRhs();
+	private static final RelationshipHashStrategy fororderWithAndOr = new OrderWithAndOrRhs();
+	private static final RelationshipHashStrategy foroverSpecifiedOrder = new OverSpecifiedOrderRhs();
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final RelationshipHashStrategy fororderWithInterface = new OrderWithInterfaceRhs();
+	private static final RelationshipHashStrategy forreadOnlyOrderWithInterface = new ReadOnlyOrderWithInterfaceRhs();
+	private static final class ProductInfoRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderItemStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			OrderItemStatusData _castedTargetData = (OrderItemStatusData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getItemId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class NullTestOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderWithOrRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderWithIsNullRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId() && _castedTargetData.isDescriptionNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderWithOrIsNullRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderWithAndOrRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OverSpecifiedOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderWithInterfaceRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			OrderWiData _castedTargetData = (OrderWiData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ReadOnlyOrderWithInterfaceRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			ReadOnlyOrderWiImpl _castedTargetData = (ReadOnlyOrderWiImpl) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemData _castedSrcData = (OrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public OrderItemAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OrderItem getDetachedCopy() throws MithraBusinessException
+	{
+		return (OrderItem) super.getDetachedCopy();
+	}
+
+	public OrderItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		OrderItem result = (OrderItem) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (behavior.isPersisted()) return;
+		behavior.insert(this);
+	}
+
+	public OrderItem copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		if (behavior.isPersisted()) return (OrderItem) this;
+		OrderItem original = (OrderItem) behavior.updateOriginalOrInsert(this);
+		return original;
+	}
+
+	public OrderItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public OrderItem zFindOriginal()
+	{
+		OrderItemData data = (OrderItemData) this.currentData;
+		Operation op;
+		op = OrderItemFinder.id().eq(data.getId());
+		return OrderItemFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isOrderItemStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderItemData();
+	}
+
+	protected void zSetFromOrderItemData( OrderItemData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderItemData( OrderItemData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return ((OrderItemData) this.zSynchronizedGetData()).isDiscountPriceNull();
+	}
+
+	public double getDiscountPrice()
+	{
+		OrderItemData data = (OrderItemData) this.zSynchronizedGetData();
+		if (data.isDiscountPriceNull()) MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(OrderItemFinder.discountPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((OrderItemData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		OrderItemData data = (OrderItemData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(OrderItemFinder.id(), newValue, true, false ,false);
+		if (d == null) return;
+		OrderItemData data = (OrderItemData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			OrderItemStatus orderItemStatus =
+			(OrderItemStatus ) data.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				orderItemStatus.setItemId(newValue);
+			}
+		}
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OrderItemData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OrderItemData data = (OrderItemData) this.zSynchronizedGetData();
+		if (data.isOrderIdNull()) MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderItemFinder.orderId(), newValue, false, false ,true);
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return ((OrderItemData) this.zSynchronizedGetData()).isOriginalPriceNull();
+	}
+
+	public double getOriginalPrice()
+	{
+		OrderItemData data = (OrderItemData) this.zSynchronizedGetData();
+		if (data.isOriginalPriceNull()) MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(OrderItemFinder.originalPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((OrderItemData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		OrderItemData data = (OrderItemData) this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(OrderItemFinder.productId(), newValue, true, false ,true);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((OrderItemData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public double getQuantity()
+	{
+		OrderItemData data = (OrderItemData) this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(OrderItemFinder.quantity(), newValue, false, false ,true);
+	}
+
+	public boolean isStateNull()
+	{
+		return ((OrderItemData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		OrderItemData data = (OrderItemData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OrderItemFinder.state(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderItemFinder.orderId(), false);
+		zNullify(behavior, data, OrderItemFinder.productId(), true);
+		zNullify(behavior, data, OrderItemFinder.quantity(), false);
+		zNullify(behavior, data, OrderItemFinder.originalPrice(), false);
+		zNullify(behavior, data, OrderItemFinder.discountPrice(), false);
+	}
+
+	public void setOrderIdNull()
+	{
+		zNullify(OrderItemFinder.orderId(), false);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(OrderItemFinder.productId(), true);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(OrderItemFinder.quantity(), false);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zNullify(OrderItemFinder.originalPrice(), false);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zNullify(OrderItemFinder.discountPrice(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderItemData _newData = (OrderItemData) _data;
+		if (_newData.getOrderItemStatus() instanceof NulledRelation)
+		{
+			OrderItemStatus orderItemStatus =
+			this.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				orderItemStatus.cascadeDelete();
+			}
+		}
+		else
+		{
+			OrderItemStatus orderItemStatus =
+			(OrderItemStatus) _newData.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				OrderItemStatus _existing =
+				this.getOrderItemStatus();
+				if (_existing == null)
+				{
+					orderItemStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderItemStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderItemStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderItemData _newData = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderItemStatus() != null && !(_newData.getOrderItemStatus() instanceof NulledRelation))
+		{
+			((OrderItemStatus)_newData.getOrderItemStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _newData = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderItemStatus() != null && !(_newData.getOrderItemStatus() instanceof NulledRelation))
+		{
+			((OrderItemStatus)_newData.getOrderItemStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public Product getProductInfo()
+	{
+		Product _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = ProductFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forproductInfo, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+				if (_related == null)
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = ProductFinder.productId().eq(_data.getProductId());
+					_result = ProductFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Product) _data.getProductInfo();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProductInfo(Product productInfo)
+	{
+		Product _productInfo = (Product) productInfo;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductInfo(_productInfo);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(_productInfo.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = OrderItemStatus.itemId</pre>
+	* @see OrderItemStatus#getOrderItem() reverse relationship OrderItemStatus.getOrderItem()
+	* @return The order item status
+	*/
+	public OrderItemStatus getOrderItemStatus()
+	{
+		OrderItemStatus _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderItemStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderItemStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderItemStatus) _related;
+				if (_related == null)
+				{
+					_op = OrderItemStatusFinder.itemId().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderItemStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderItemStatus) _data.getOrderItemStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderItemStatusFinder.itemId().eq(_data.getId());
+					_result = OrderItemStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderItemStatus(_result);
+				if (_result != null) _result.zSetParentContainerorderItem(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemStatus) _data.getOrderItemStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = OrderItemStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderItemStatus(OrderItemStatus orderItemStatus)
+	{
+		OrderItemStatus _orderItemStatus = (OrderItemStatus) orderItemStatus;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderItemStatus();
+			_data.setOrderItemStatus(_orderItemStatus);
+			if (_orderItemStatus != null)
+			{
+				_orderItemStatus.setItemId(_data.getId());
+				_orderItemStatus.zSetParentContainerorderItem(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderItemStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			OrderItemStatus _existing = this.getOrderItemStatus();
+			if (_orderItemStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_orderItemStatus != null)
+				{
+					_orderItemStatus.setItemId(_data.getId());
+					_orderItemStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isOrderItemStatusModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderItemStatus() instanceof NulledRelation)
+		{
+			OrderItemStatus _existing = this.getOriginalPersistentObject().getOrderItemStatus();
+			return _existing != null;
+		}
+
+		OrderItemStatus orderItemStatus =
+		(OrderItemStatus) _data.getOrderItemStatus();
+		if( orderItemStatus != null)
+		{
+			return orderItemStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId is not null and this.orderId = Order.orderId</pre>
+	* @return The null test order
+	*/
+	public Order getNullTestOrder()
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if ((!_data.isOrderIdNull()) && (!_data.isOrderIdNull()))
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fornullTestOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if ((!_data.isOrderIdNull()) && (!_data.isOrderIdNull()))
+				{
+					Operation detachedOp = OrderFinder.orderId().eq(_data.getOrderId());
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getNullTestOrder();
+			if (_result == null)
+			{
+				if ((!_data.isOrderIdNull()) && (!_data.isOrderIdNull()))
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setNullTestOrder(Order nullTestOrder)
+	{
+		Order _nullTestOrder = (Order) nullTestOrder;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setNullTestOrder(_nullTestOrder);
+			if (_nullTestOrder == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(_nullTestOrder.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_nullTestOrder == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_nullTestOrder.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderItem.orderId and OrderItem.state = "In-Progress"</pre>
+	* @return other in progress items
+	*/
+	public OrderItemList getOtherInProgressItems()
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(OrderItemFinder.otherInProgressItems().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new OrderItemList( new None (
+					OrderItemFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(OrderItemFinder.otherInProgressItems().zGetRelationshipMultiExtractor(), this);
+					_result = new OrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemList) _data.getOtherInProgressItems();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(OrderItemFinder.otherInProgressItems().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setOtherInProgressItems(OrderItemList otherInProgressItems)
+	{
+		OrderItemList _otherInProgressItems = (OrderItemList) otherInProgressItems;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOtherInProgressItems(_otherInProgressItems);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderItem.orderId and OrderItem.originalPrice > 5</pre>
+	* @return other expensive items
+	*/
+	public OrderItemList getOtherExpensiveItems()
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.zGetConstantOperation(4));
+				}
+			}
+			else 
+			{
+				_result = new OrderItemList( new None (
+					OrderItemFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.zGetConstantOperation(4));
+					_result = new OrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemList) _data.getOtherExpensiveItems();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.zGetConstantOperation(4));
+				}
+				else 
+				{
+					_result = new OrderItemList( new None (
+						OrderItemFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setOtherExpensiveItems(OrderItemList otherExpensiveItems)
+	{
+		OrderItemList _otherExpensiveItems = (OrderItemList) otherExpensiveItems;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOtherExpensiveItems(_otherExpensiveItems);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and (Order.description > {minDesc} or Order.userId = {userId})</pre>
+	* @return The order with or
+	*/
+	public Order getOrderWithOr(String minDesc, int userId)
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderWithOr, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_result != null && !((((!_result.isDescriptionNull() && _result.getDescription() != null && _result.getDescription().compareTo(minDesc) > 0) || (_result.isDescriptionNull() && minDesc == null)) || ((!_result.isUserIdNull() && _result.getUserId() == userId))))) _result = null;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId()).and(OrderFinder.description().greaterThan(minDesc).or(OrderFinder.userId().eq(userId)));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and Order.description is null</pre>
+	* @return The order with is null
+	*/
+	public Order getOrderWithIsNull()
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderWithIsNull, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId()).and(OrderFinder.zGetConstantOperation(5));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = OrderFinder.orderId().eq(_data.getOrderId()).and(OrderFinder.zGetConstantOperation(5));
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getOrderWithIsNull();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId()).and(OrderFinder.zGetConstantOperation(5));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderWithIsNull(Order orderWithIsNull)
+	{
+		Order _orderWithIsNull = (Order) orderWithIsNull;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderWithIsNull(_orderWithIsNull);
+			if (_orderWithIsNull == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(_orderWithIsNull.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_orderWithIsNull == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_orderWithIsNull.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and (Order.description > {minDesc} or Order.description is null)</pre>
+	* @return The order with or is null
+	*/
+	public Order getOrderWithOrIsNull(String minDesc)
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderWithOrIsNull, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_result != null && !((((!_result.isDescriptionNull() && _result.getDescription() != null && _result.getDescription().compareTo(minDesc) > 0) || (_result.isDescriptionNull() && minDesc == null)) || _result.isDescriptionNull()))) _result = null;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId()).and(OrderFinder.description().greaterThan(minDesc).or(OrderFinder.zGetConstantOperation(5)));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and Order.state > {minDesc} and (Order.description > {minDesc} or Order.userId = {userId})</pre>
+	* @return The order with and or
+	*/
+	public Order getOrderWithAndOr(String minDesc, int userId)
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderWithAndOr, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_result != null && !((((!_result.isStateNull() && _result.getState() != null && _result.getState().compareTo(minDesc) > 0) || (_result.isStateNull() && minDesc == null)) && (((!_result.isDescriptionNull() && _result.getDescription() != null && _result.getDescription().compareTo(minDesc) > 0) || (_result.isDescriptionNull() && minDesc == null)) || ((!_result.isUserIdNull() && _result.getUserId() == userId)))))) _result = null;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId()).and(OrderFinder.state().greaterThan(minDesc).and(OrderFinder.description().greaterThan(minDesc).or(OrderFinder.userId().eq(userId))));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and Order.description in {descriptions}</pre>
+	* @return The over specified order
+	*/
+	public Order getOverSpecifiedOrder(Set descriptions)
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, foroverSpecifiedOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_result != null && !(((!_result.isDescriptionNull() && descriptions.contains(_result.getDescription())) || (_result.isDescriptionNull() && descriptions == null)))) _result = null;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId()).and(OrderFinder.description().in(descriptions));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId</pre>
+	* @see Order#getItems() reverse relationship Order.getItems()
+	* @return The order
+	*/
+	public Order getOrder()
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (Order) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = OrderFinder.orderId().eq(_data.getOrderId());
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(Order order)
+	{
+		Order _order = (Order) order;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrder();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((Order)_prev).getItems()).zMarkMoved( (OrderItem) this);
+			}
+
+			_data.setOrder(_order);
+			_order.getItems().add( (OrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_order == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerorder(OrderAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderWi.orderId</pre>
+	* @see OrderWi#getItemsWithoutInterfaces() reverse relationship OrderWi.getItemsWithoutInterfaces()
+	* @return The order with interface
+	*/
+	public OrderWi getOrderWithInterface()
+	{
+		OrderWiImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = OrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderWithInterface, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = OrderWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderWithInterface() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderWiImpl) _data.getOrderWithInterface();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = OrderWiFinder.orderId().eq(_data.getOrderId());
+					_result = OrderWiFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderWithInterface(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderWiImpl) _data.getOrderWithInterface();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = OrderWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderWithInterface(OrderWi orderWithInterface)
+	{
+		OrderWiImpl _orderWithInterface = (OrderWiImpl) orderWithInterface;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderWithInterface();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((OrderWiImpl)_prev).getItemsWithoutInterfaces()).zMarkMoved( (OrderItem) this);
+			}
+
+			_data.setOrderWithInterface(_orderWithInterface);
+			_orderWithInterface.getItemsWithoutInterfaces().add( (OrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_orderWithInterface == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_orderWithInterface.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerorderWithInterface(OrderWiImplAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderWithInterface(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyOrderWi.orderId</pre>
+	* @see ReadOnlyOrderWi#getItemsWithoutInterfaces() reverse relationship ReadOnlyOrderWi.getItemsWithoutInterfaces()
+	* @return The read only order with interface
+	*/
+	public ReadOnlyOrderWi getReadOnlyOrderWithInterface()
+	{
+		ReadOnlyOrderWiImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = ReadOnlyOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forreadOnlyOrderWithInterface, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = ReadOnlyOrderWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getReadOnlyOrderWithInterface() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ReadOnlyOrderWiImpl) _data.getReadOnlyOrderWithInterface();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = ReadOnlyOrderWiFinder.orderId().eq(_data.getOrderId());
+					_result = ReadOnlyOrderWiFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ReadOnlyOrderWiImpl) _data.getReadOnlyOrderWithInterface();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = ReadOnlyOrderWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ReadOnlyOrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setReadOnlyOrderWithInterface(ReadOnlyOrderWi readOnlyOrderWithInterface)
+	{
+		ReadOnlyOrderWiImpl _readOnlyOrderWithInterface = (ReadOnlyOrderWiImpl) readOnlyOrderWithInterface;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getReadOnlyOrderWithInterface();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((ReadOnlyOrderWiImpl)_prev).getItemsWithoutInterfaces()).zMarkMoved( (OrderItem) this);
+			}
+
+			_data.setReadOnlyOrderWithInterface(_readOnlyOrderWithInterface);
+			_readOnlyOrderWithInterface.getItemsWithoutInterfaces().add( (OrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_readOnlyOrderWithInterface == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_readOnlyOrderWithInterface.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerreadOnlyOrderWithInterface(ReadOnlyOrderWiImplAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setReadOnlyOrderWithInterface(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isPersisted()) return;
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		OrderItemStatus orderItemStatus =
+		(OrderItemStatus) _data.getOrderItemStatus();
+		_behavior.insert(this);
+		if (orderItemStatus != null)
+		{
+			orderItemStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		OrderItemFinder.OrderItemRelatedFinder parentFinder = (OrderItemFinder.OrderItemRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemData _newData = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getOrderItemStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderItemStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			OrderItemStatus orderItemStatus =
+			(OrderItemStatus) _newData.getOrderItemStatus();
+			RelatedFinder dependentFinder = parentFinder.orderItemStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderItemStatus != null, navigationStats);
+			if (orderItemStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderItemStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public OrderItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isPersisted()) return (OrderItem) this;
+		OrderItemData _data = (OrderItemData) _behavior.getCurrentDataForWrite(this);
+		OrderItemStatus orderItemStatus =
+		(OrderItemStatus) _data.getOrderItemStatus();
+		OrderItem original = (OrderItem) _behavior.copyThenInsert(this);
+		if (orderItemStatus != null)
+		{
+			orderItemStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		{
+			OrderItemStatus related = this.getOrderItemStatus();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderItemFinder.getMithraObjectPortal();
+	}
+
+	public OrderItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, OrderItemFinder.discountPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderItemFinder.orderId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, OrderItemFinder.originalPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderItemFinder.productId(), true);
+		changed |= zUpdateDouble(behavior, data, newData, OrderItemFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderItemFinder.state(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderItemFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderItemAbstract result = (OrderItemAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class OrderItemStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItemStatus item = (OrderItemStatus) relatedObject;
+			item.setItemId(getId());
+			item.zSetParentContainerorderItem(OrderItemAbstract.this);
+		}
+	}
+
+	protected class OrderItemStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItemStatus item = (OrderItemStatus) relatedObject;
+			item.setItemId(getId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,351 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderItemListAbstract extends DelegatingList<OrderItem> implements MithraTransactionalList<OrderItem>
+{
+	public OrderItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderItem[] elements()
+	{
+		OrderItem[] result = new OrderItem[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderItemList intersection(OrderItemList another)
+	{
+		return (OrderItemList)super.intersection(another);
+	}
+
+	public OrderItem getOrderItemAt(int index)
+	{
+		return (OrderItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public ProductList getProductInfos()
+	{
+		return (ProductList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.productInfo());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = OrderItemStatus.itemId</pre>
+	* @see OrderItemStatus#getOrderItem() reverse relationship OrderItemStatus.getOrderItem()
+	* @return The order item status
+	*/
+	public OrderItemStatusList getOrderItemStatus()
+	{
+		return (OrderItemStatusList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.orderItemStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId is not null and this.orderId = Order.orderId</pre>
+	* @return The null test order
+	*/
+	public OrderList getNullTestOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.nullTestOrder());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderItem.orderId and OrderItem.state = "In-Progress"</pre>
+	* @return other in progress items
+	*/
+	public OrderItemList getOtherInProgressItems()
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.otherInProgressItems());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderItem.orderId and OrderItem.originalPrice > 5</pre>
+	* @return other expensive items
+	*/
+	public OrderItemList getOtherExpensiveItems()
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.otherExpensiveItems());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and (Order.description > {minDesc} or Order.userId = {userId})</pre>
+	* @return The order with or
+	*/
+	public OrderList getOrderWithOrs(String minDesc, int userId)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.orderWithOr(minDesc, userId));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and Order.description is null</pre>
+	* @return The order with is null
+	*/
+	public OrderList getOrderWithIsNulls()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.orderWithIsNull());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and (Order.description > {minDesc} or Order.description is null)</pre>
+	* @return The order with or is null
+	*/
+	public OrderList getOrderWithOrIsNulls(String minDesc)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.orderWithOrIsNull(minDesc));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and Order.state > {minDesc} and (Order.description > {minDesc} or Order.userId = {userId})</pre>
+	* @return The order with and or
+	*/
+	public OrderList getOrderWithAndOrs(String minDesc, int userId)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.orderWithAndOr(minDesc, userId));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId and Order.description in {descriptions}</pre>
+	* @return The over specified order
+	*/
+	public OrderList getOverSpecifiedOrders(Set descriptions)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.overSpecifiedOrder(descriptions));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId</pre>
+	* @see Order#getItems() reverse relationship Order.getItems()
+	* @return The order
+	*/
+	public OrderList getOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.order());
+	}
+
+	public void zSetParentContainerorder(OrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderItem item = this.getOrderItemAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderWi.orderId</pre>
+	* @see OrderWi#getItemsWithoutInterfaces() reverse relationship OrderWi.getItemsWithoutInterfaces()
+	* @return The order with interface
+	*/
+	public OrderWiList getOrderWithInterfaces()
+	{
+		return (OrderWiList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.orderWithInterface());
+	}
+
+	public void zSetParentContainerorderWithInterface(OrderWiImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderItem item = this.getOrderItemAt(i);
+			item.zSetParentContainerorderWithInterface(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyOrderWi.orderId</pre>
+	* @see ReadOnlyOrderWi#getItemsWithoutInterfaces() reverse relationship ReadOnlyOrderWi.getItemsWithoutInterfaces()
+	* @return The read only order with interface
+	*/
+	public ReadOnlyOrderWiList getReadOnlyOrderWithInterfaces()
+	{
+		return (ReadOnlyOrderWiList) this.zGetDelegated().resolveRelationship(this, OrderItemFinder.readOnlyOrderWithInterface());
+	}
+
+	public void zSetParentContainerreadOnlyOrderWithInterface(ReadOnlyOrderWiImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderItem item = this.getOrderItemAt(i);
+			item.zSetParentContainerreadOnlyOrderWithInterface(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderItemFinder.getMithraObjectPortal();
+	}
+
+	public OrderItemList getNonPersistentCopy()
+	{
+		OrderItemList result = new OrderItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderItemList asAdhoc()
+	{
+		return (OrderItemList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<OrderItem> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OrderItemList merge(MithraTransactionalList<OrderItem> incoming, TopLevelMergeOptions<OrderItem> mergeOptions)
+	{
+		return (OrderItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderItemList getDetachedCopy()
+	{
+		OrderItemList result = new OrderItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(OrderItemFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderItemFinder.orderId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(OrderItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(OrderItemFinder.quantity(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(OrderItemFinder.originalPrice(), newValue);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(OrderItemFinder.discountPrice(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OrderItemFinder.state(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(OrderItemFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(OrderItemFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(OrderItemFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(OrderItemFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(OrderItemFinder.discountPrice());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getOrderItemStatus()).cascadeDeleteAll();
+	}
+}
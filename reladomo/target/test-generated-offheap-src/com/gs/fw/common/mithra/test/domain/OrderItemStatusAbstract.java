@@ -0,0 +1,420 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderItemStatusAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+implements
+OrderStatusInterface
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OrderItemStatus.class.getName());
+	private static final RelationshipHashStrategy fororderItem = new OrderItemRhs();
+	private static final class OrderItemRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderItemStatusData _castedSrcData = (OrderItemStatusData) _srcData;
+			OrderItemData _castedTargetData = (OrderItemData) _targetData;
+			if (_castedSrcData.getItemId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderItemStatusData _castedSrcData = (OrderItemStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getItemId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public OrderItemStatusAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OrderItemStatus getDetachedCopy() throws MithraBusinessException
+	{
+		return (OrderItemStatus) super.getDetachedCopy();
+	}
+
+	public OrderItemStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		OrderItemStatus result = (OrderItemStatus) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (behavior.isPersisted()) return;
+		behavior.insert(this);
+	}
+
+	public OrderItemStatus copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		if (behavior.isPersisted()) return (OrderItemStatus) this;
+		OrderItemStatus original = (OrderItemStatus) behavior.updateOriginalOrInsert(this);
+		return original;
+	}
+
+	public OrderItemStatus copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OrderItemStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public OrderItemStatus zFindOriginal()
+	{
+		OrderItemStatusData data = (OrderItemStatusData) this.currentData;
+		Operation op;
+		op = OrderItemStatusFinder.itemId().eq(data.getItemId());
+		return OrderItemStatusFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderItemStatusData();
+	}
+
+	protected void zSetFromOrderItemStatusData( OrderItemStatusData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderItemStatusData( OrderItemStatusData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isItemIdNull()
+	{
+		return ((OrderItemStatusData) this.zSynchronizedGetData()).isItemIdNull();
+	}
+
+	public int getItemId()
+	{
+		OrderItemStatusData data = (OrderItemStatusData) this.zSynchronizedGetData();
+		return data.getItemId();
+	}
+
+	public void setItemId(int newValue)
+	{
+		zSetInteger(OrderItemStatusFinder.itemId(), newValue, true, false ,false);
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return ((OrderItemStatusData) this.zSynchronizedGetData()).isLastUpdateTimeNull();
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		OrderItemStatusData data = (OrderItemStatusData) this.zSynchronizedGetData();
+		return data.getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(OrderItemStatusFinder.lastUpdateTime(), newValue, false, false );
+	}
+
+	public boolean isLastUserNull()
+	{
+		return ((OrderItemStatusData) this.zSynchronizedGetData()).isLastUserNull();
+	}
+
+	public String getLastUser()
+	{
+		OrderItemStatusData data = (OrderItemStatusData) this.zSynchronizedGetData();
+		return data.getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OrderItemStatusFinder.lastUser(), newValue, false, false );
+	}
+
+	public boolean isStatusNull()
+	{
+		return ((OrderItemStatusData) this.zSynchronizedGetData()).isStatusNull();
+	}
+
+	public int getStatus()
+	{
+		OrderItemStatusData data = (OrderItemStatusData) this.zSynchronizedGetData();
+		if (data.isStatusNull()) MithraNullPrimitiveException.throwNew("status", data);
+		return data.getStatus();
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(OrderItemStatusFinder.status(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderItemStatusFinder.status(), false);
+	}
+
+	public void setStatusNull()
+	{
+		zNullify(OrderItemStatusFinder.status(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderItemStatusData _newData = (OrderItemStatusData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderItemStatusData _newData = (OrderItemStatusData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemStatusData _newData = (OrderItemStatusData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.id = this.itemId</pre>
+	* @see OrderItem#getOrderItemStatus() reverse relationship OrderItem.getOrderItemStatus()
+	* @return The order item
+	*/
+	public OrderItem getOrderItem()
+	{
+		OrderItem _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderItemStatusData _data = (OrderItemStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderItemFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderItem, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderItem) _related;
+				if (_related == null)
+				{
+					_op = OrderItemFinder.id().eq(_data.getItemId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderItem() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderItem) _data.getOrderItem();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderItemFinder.id().eq(_data.getItemId());
+					_result = OrderItemFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (OrderItemStatusData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderItem(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItem) _data.getOrderItem();
+			if (_result == null)
+			{
+				{
+					_op = OrderItemFinder.id().eq(_data.getItemId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderItem(OrderItem orderItem)
+	{
+		((OrderItem)orderItem).setOrderItemStatus((OrderItemStatus)this);
+	}
+
+	public void zSetParentContainerorderItem(OrderItemAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderItemStatusData _data = (OrderItemStatusData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderItem(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isPersisted()) return;
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public OrderItemStatus zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isPersisted()) return (OrderItemStatus) this;
+		OrderItemStatus original = (OrderItemStatus) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderItemStatusFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderItemStatusFinder.getMithraObjectPortal();
+	}
+
+	public OrderItemStatus getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, OrderItemStatusFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderItemStatusFinder.lastUser(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderItemStatusFinder.status(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderItemStatusFinder.itemId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderItemStatusAbstract result = (OrderItemStatusAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,43 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderItemWiAbstract
+{
+	double getDiscountPrice();
+	void setDiscountPrice(double newValue);
+	boolean isDiscountPriceNull();
+	int getId();
+	void setId(int newValue);
+	boolean isIdNull();
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	double getOriginalPrice();
+	void setOriginalPrice(double newValue);
+	boolean isOriginalPriceNull();
+	int getProductId();
+	void setProductId(int newValue);
+	boolean isProductIdNull();
+	double getQuantity();
+	void setQuantity(double newValue);
+	boolean isQuantityNull();
+	String getState();
+	void setState(String newValue);
+	boolean isStateNull();
+	void setOrderIdNull();
+	void setProductIdNull();
+	void setQuantityNull();
+	void setOriginalPriceNull();
+	void setDiscountPriceNull();
+	public Product getProductInfo();
+	void setProductInfo(Product productInfo);
+	public Order getOrderWithoutInterface();
+	void setOrderWithoutInterface(Order orderWithoutInterface);
+	public OrderWi getOrder();
+	void setOrder(OrderWi order);
+}
@@ -0,0 +1,17 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderItemWiListAbstract extends List<OrderItemWi>
+{
+	public ProductList getProductInfos();
+	public OrderList getOrderWithoutInterfaces();
+	public OrderWiList getOrders();
+	public void setDiscountPrice(double newValue);
+	public void setId(int newValue);
+	public void setOrderId(int newValue);
+	public void setOriginalPrice(double newValue);
+	public void setProductId(int newValue);
+	public void setQuantity(double newValue);
+	public void setState(String newValue);
+}
@@ -0,0 +1,235 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderItemWiListImplAbstract extends DelegatingList<OrderItemWi> implements MithraTransactionalList<OrderItemWi>
+{
+	public OrderItemWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderItemWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderItemWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderItemWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderItemWi[] elements()
+	{
+		OrderItemWi[] result = new OrderItemWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderItemWiListImpl intersection(OrderItemWiListImpl another)
+	{
+		return (OrderItemWiListImpl)super.intersection(another);
+	}
+
+	public OrderItemWiImpl getOrderItemWiAt(int index)
+	{
+		return (OrderItemWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public ProductList getProductInfos()
+	{
+		return (ProductList) this.zGetDelegated().resolveRelationship(this, OrderItemWiFinder.productInfo());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId</pre>
+	* @see Order#getItemsWithInterfaces() reverse relationship Order.getItemsWithInterfaces()
+	* @return The order without interface
+	*/
+	public OrderList getOrderWithoutInterfaces()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderItemWiFinder.orderWithoutInterface());
+	}
+
+	public void zSetParentContainerorderWithoutInterface(OrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderItemWiImpl item = this.getOrderItemWiAt(i);
+			item.zSetParentContainerorderWithoutInterface(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderWi.orderId</pre>
+	* @see OrderWi#getItems() reverse relationship OrderWi.getItems()
+	* @return The order
+	*/
+	public OrderWiList getOrders()
+	{
+		return (OrderWiList) this.zGetDelegated().resolveRelationship(this, OrderItemWiFinder.order());
+	}
+
+	public void zSetParentContainerorder(OrderWiImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderItemWiImpl item = this.getOrderItemWiAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderItemWiFinder.getMithraObjectPortal();
+	}
+
+	public OrderItemWiListImpl getNonPersistentCopy()
+	{
+		OrderItemWiListImpl result = new OrderItemWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderItemWiListImpl asAdhoc()
+	{
+		return (OrderItemWiListImpl) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<OrderItemWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OrderItemWiListImpl merge(MithraTransactionalList<OrderItemWi> incoming, TopLevelMergeOptions<OrderItemWi> mergeOptions)
+	{
+		return (OrderItemWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderItemWiListImpl getDetachedCopy()
+	{
+		OrderItemWiListImpl result = new OrderItemWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(OrderItemWiFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderItemWiFinder.orderId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(OrderItemWiFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(OrderItemWiFinder.quantity(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(OrderItemWiFinder.originalPrice(), newValue);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(OrderItemWiFinder.discountPrice(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OrderItemWiFinder.state(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(OrderItemWiFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(OrderItemWiFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(OrderItemWiFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(OrderItemWiFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(OrderItemWiFinder.discountPrice());
+	}
+}
@@ -0,0 +1,373 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderListAbstract extends DelegatingList<Order> implements MithraTransactionalList<Order>
+{
+	public OrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Order[] elements()
+	{
+		Order[] result = new Order[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderList intersection(OrderList another)
+	{
+		return (OrderList)super.intersection(another);
+	}
+
+	public Order getOrderAt(int index)
+	{
+		return (Order)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId</pre>
+	* @see OrderItem#getOrder() reverse relationship OrderItem.getOrder()
+	* @return items
+	*/
+	public OrderItemList getItems()
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatus.orderId = this.orderId</pre>
+	* @see OrderStatus#getOrder() reverse relationship OrderStatus.getOrder()
+	* @return The order status
+	*/
+	public OrderStatusList getOrderStatus()
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, OrderFinder.orderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public OrderItemList getItemForProducts(int productId)
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.itemForProduct(productId));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public OrderItemList getItemForProductSets(IntSet productIds)
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.itemForProductSet(productIds));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public OrderItemList getExpensiveItems(double price)
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.expensiveItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public OrderItemList getCheapItems(double price)
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.cheapItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.originalPrice < {price} and this.userId = 1</pre>
+	* @return cheap items with check
+	*/
+	public OrderItemList getCheapItemsWithCheck(double price)
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.cheapItemsWithCheck(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and this.userId = 5</pre>
+	* @return items for user five
+	*/
+	public OrderItemList getItemsForUserFive()
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.itemsForUserFive());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderItem.orderId and
+	10.5 = OrderItem.quantity and
+	OrderItem.state != "In-Progress" and
+	OrderItem.productId = Product.productId</pre>
+	* @return products without in progress
+	*/
+	public ProductList getProductsWithoutInProgress()
+	{
+		return (ProductList) this.zGetDelegated().resolveRelationship(this, OrderFinder.productsWithoutInProgress());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItemWi.orderId = this.orderId</pre>
+	* @see OrderItemWi#getOrderWithoutInterface() reverse relationship OrderItemWi.getOrderWithoutInterface()
+	* @return items with interfaces
+	*/
+	public OrderItemWiList getItemsWithInterfaces()
+	{
+		return (OrderItemWiList) this.zGetDelegated().resolveRelationship(this, OrderFinder.itemsWithInterfaces());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderDate = {com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()}
+	and this.orderId = OrderItem.orderId</pre>
+	* @return items filter by date
+	*/
+	public OrderItemList getItemsFilterByDate()
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.itemsFilterByDate());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatusWi.orderId = this.orderId</pre>
+	* @see OrderStatusWi#getOrderWithoutInterface() reverse relationship OrderStatusWi.getOrderWithoutInterface()
+	* @return The order status with interfaces
+	*/
+	public OrderStatusWiList getOrderStatusWithInterfaces()
+	{
+		return (OrderStatusWiList) this.zGetDelegated().resolveRelationship(this, OrderFinder.orderStatusWithInterfaces());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderParentToChildren.parentOrderId = this.orderId</pre>
+	* @see OrderParentToChildren#getParentOrder() reverse relationship OrderParentToChildren.getParentOrder()
+	* @return parent to child as parent
+	*/
+	public OrderParentToChildrenList getParentToChildAsParent()
+	{
+		return (OrderParentToChildrenList) this.zGetDelegated().resolveRelationship(this, OrderFinder.parentToChildAsParent());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderParentToChildren.childOrderId = this.orderId</pre>
+	* @see OrderParentToChildren#getChildOrder() reverse relationship OrderParentToChildren.getChildOrder()
+	* @return The parent to child as child
+	*/
+	public OrderParentToChildrenList getParentToChildAsChilds()
+	{
+		return (OrderParentToChildrenList) this.zGetDelegated().resolveRelationship(this, OrderFinder.parentToChildAsChild());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderParentToChildren.parentOrderId = this.orderId and OrderParentToChildren.childOrderId = Order.orderId</pre>
+	* @see Order#getParent() reverse relationship Order.getParent()
+	* @return children
+	*/
+	public OrderList getChildren()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderFinder.children());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and this.orderId = OrderStatus.orderId</pre>
+	* @return itemsfor existing status
+	*/
+	public OrderItemList getItemsforExistingStatus()
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.itemsforExistingStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and (this.userId = 1 or this.state = "Gummed up")</pre>
+	* @return items or test
+	*/
+	public OrderItemList getItemsOrTest()
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.itemsOrTest());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and (this.userId in (1,2) or this.state in ("In-Progress"))</pre>
+	* @return items in test
+	*/
+	public OrderItemList getItemsInTest()
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderFinder.itemsInTest());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(OrderParentToChildren.parentOrderId = Order.orderId and OrderParentToChildren.childOrderId = this.orderId )</pre>
+	* @see Order#getChildren() reverse relationship Order.getChildren()
+	* @return The parent
+	*/
+	public OrderList getParents()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderFinder.parent());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderFinder.getMithraObjectPortal();
+	}
+
+	public OrderList getNonPersistentCopy()
+	{
+		OrderList result = new OrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderList asAdhoc()
+	{
+		return (OrderList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Order> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OrderList merge(MithraTransactionalList<Order> incoming, TopLevelMergeOptions<Order> mergeOptions)
+	{
+		return (OrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderList getDetachedCopy()
+	{
+		OrderList result = new OrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OrderFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OrderFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(OrderFinder.trackingId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(OrderFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getItems()).cascadeDeleteAll();
+		((DelegatingList)this.getOrderStatus()).cascadeDeleteAll();
+		((DelegatingList)this.getItemsWithInterfaces()).cascadeDeleteAll();
+		((DelegatingList)this.getOrderStatusWithInterfaces()).cascadeDeleteAll();
+		((DelegatingList)this.getParentToChildAsParent()).cascadeDeleteAll();
+		((DelegatingList)this.getParentToChildAsChilds()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,525 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderParentToChildrenAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OrderParentToChildren.class.getName());
+	private static final RelationshipHashStrategy forparentOrder = new ParentOrderRhs();
+	private static final RelationshipHashStrategy forchildOrder = new ChildOrderRhs();
+	private static final class ParentOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderParentToChildrenData _castedSrcData = (OrderParentToChildrenData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isParentOrderIdNull() && _castedSrcData.getParentOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderParentToChildrenData _castedSrcData = (OrderParentToChildrenData) _srcData;
+			return HashUtil.hash(_castedSrcData.getParentOrderId(), _castedSrcData.isParentOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ChildOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderParentToChildrenData _castedSrcData = (OrderParentToChildrenData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (_castedSrcData.getChildOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderParentToChildrenData _castedSrcData = (OrderParentToChildrenData) _srcData;
+			return HashUtil.hash(_castedSrcData.getChildOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public OrderParentToChildrenAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OrderParentToChildren getDetachedCopy() throws MithraBusinessException
+	{
+		return (OrderParentToChildren) super.getDetachedCopy();
+	}
+
+	public OrderParentToChildren getNonPersistentCopy() throws MithraBusinessException
+	{
+		OrderParentToChildren result = (OrderParentToChildren) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (behavior.isPersisted()) return;
+		behavior.insert(this);
+	}
+
+	public OrderParentToChildren copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		if (behavior.isPersisted()) return (OrderParentToChildren) this;
+		OrderParentToChildren original = (OrderParentToChildren) behavior.updateOriginalOrInsert(this);
+		return original;
+	}
+
+	public OrderParentToChildren copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OrderParentToChildren) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public OrderParentToChildren zFindOriginal()
+	{
+		OrderParentToChildrenData data = (OrderParentToChildrenData) this.currentData;
+		Operation op;
+		op = OrderParentToChildrenFinder.childOrderId().eq(data.getChildOrderId());
+		return OrderParentToChildrenFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderParentToChildrenData();
+	}
+
+	protected void zSetFromOrderParentToChildrenData( OrderParentToChildrenData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderParentToChildrenData( OrderParentToChildrenData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isChildOrderIdNull()
+	{
+		return ((OrderParentToChildrenData) this.zSynchronizedGetData()).isChildOrderIdNull();
+	}
+
+	public int getChildOrderId()
+	{
+		OrderParentToChildrenData data = (OrderParentToChildrenData) this.zSynchronizedGetData();
+		return data.getChildOrderId();
+	}
+
+	public void setChildOrderId(int newValue)
+	{
+		zSetInteger(OrderParentToChildrenFinder.childOrderId(), newValue, true, false ,false);
+	}
+
+	public boolean isParentOrderIdNull()
+	{
+		return ((OrderParentToChildrenData) this.zSynchronizedGetData()).isParentOrderIdNull();
+	}
+
+	public int getParentOrderId()
+	{
+		OrderParentToChildrenData data = (OrderParentToChildrenData) this.zSynchronizedGetData();
+		if (data.isParentOrderIdNull()) MithraNullPrimitiveException.throwNew("parentOrderId", data);
+		return data.getParentOrderId();
+	}
+
+	public void setParentOrderId(int newValue)
+	{
+		zSetInteger(OrderParentToChildrenFinder.parentOrderId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderParentToChildrenFinder.parentOrderId(), false);
+	}
+
+	public void setParentOrderIdNull()
+	{
+		zNullify(OrderParentToChildrenFinder.parentOrderId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderParentToChildrenData _newData = (OrderParentToChildrenData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderParentToChildrenData _newData = (OrderParentToChildrenData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderParentToChildrenData _newData = (OrderParentToChildrenData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.parentOrderId = Order.orderId</pre>
+	* @see Order#getParentToChildAsParent() reverse relationship Order.getParentToChildAsParent()
+	* @return The parent order
+	*/
+	public Order getParentOrder()
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderParentToChildrenData _data = (OrderParentToChildrenData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isParentOrderIdNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forparentOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getParentOrderId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getParentOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (Order) _data.getParentOrder();
+			if (_result == null)
+			{
+				if (!_data.isParentOrderIdNull())
+				{
+					Operation detachedOp = OrderFinder.orderId().eq(_data.getParentOrderId());
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (OrderParentToChildrenData) _behavior.getCurrentDataForWrite(this);
+				_data.setParentOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getParentOrder();
+			if (_result == null)
+			{
+				if (!_data.isParentOrderIdNull())
+				{
+					_op = OrderFinder.orderId().eq(_data.getParentOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParentOrder(Order parentOrder)
+	{
+		Order _parentOrder = (Order) parentOrder;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderParentToChildrenData _data = (OrderParentToChildrenData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getParentOrder();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((Order)_prev).getParentToChildAsParent()).zMarkMoved( (OrderParentToChildren) this);
+			}
+
+			_data.setParentOrder(_parentOrder);
+			_parentOrder.getParentToChildAsParent().add( (OrderParentToChildren) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_parentOrder == null)
+			{
+				this.setParentOrderIdNull();
+			}
+			else
+			{
+				this.setParentOrderId(
+					_parentOrder.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerparentOrder(OrderAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderParentToChildrenData _data = (OrderParentToChildrenData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParentOrder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.childOrderId = Order.orderId</pre>
+	* @see Order#getParentToChildAsChild() reverse relationship Order.getParentToChildAsChild()
+	* @return The child order
+	*/
+	public Order getChildOrder()
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderParentToChildrenData _data = (OrderParentToChildrenData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forchildOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getChildOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getChildOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (Order) _data.getChildOrder();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderFinder.orderId().eq(_data.getChildOrderId());
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (OrderParentToChildrenData) _behavior.getCurrentDataForWrite(this);
+				_data.setChildOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getChildOrder();
+			if (_result == null)
+			{
+				{
+					_op = OrderFinder.orderId().eq(_data.getChildOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setChildOrder(Order childOrder)
+	{
+		((Order)childOrder).setParentToChildAsChild((OrderParentToChildren)this);
+	}
+
+	public void zSetParentContainerchildOrder(OrderAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderParentToChildrenData _data = (OrderParentToChildrenData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setChildOrder(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isPersisted()) return;
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public OrderParentToChildren zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isPersisted()) return (OrderParentToChildren) this;
+		OrderParentToChildren original = (OrderParentToChildren) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderParentToChildrenFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderParentToChildrenFinder.getMithraObjectPortal();
+	}
+
+	public OrderParentToChildren getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderParentToChildrenFinder.parentOrderId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderParentToChildrenFinder.childOrderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderParentToChildrenAbstract result = (OrderParentToChildrenAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
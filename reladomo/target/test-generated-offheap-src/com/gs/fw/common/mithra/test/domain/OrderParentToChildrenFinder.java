@@ -0,0 +1,742 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class OrderParentToChildrenFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/OrderParentToChildren";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.OrderParentToChildren";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.OrderParentToChildren");
+	private static final OrderParentToChildrenSingleFinder<OrderParentToChildren, Object, OrderParentToChildren> finder = new OrderParentToChildrenSingleFinder<OrderParentToChildren, Object, OrderParentToChildren>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(OrderParentToChildrenFinder.OrderParentToChildrenRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("childOrderId");
+		finderMethodMap.addNormalAttributeName("parentOrderId");
+		finderMethodMap.addRelationshipName("parentOrder");
+		finderMethodMap.addRelationshipName("childOrder");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = OrderParentToChildrenFinder.childOrderId().constructEqualityMapper(OrderFinder.orderId());
+			result[1] = OrderFinder.orderId().constructEqualityMapper(OrderParentToChildrenFinder.childOrderId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static OrderParentToChildren findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static OrderParentToChildren findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static OrderParentToChildrenList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (OrderParentToChildrenList) finder.findMany(operation);
+	}
+
+	public static OrderParentToChildrenList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (OrderParentToChildrenList) finder.findManyBypassCache(operation);
+	}
+
+	private static OrderParentToChildren findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (OrderParentToChildren) FinderUtils.findOne(found);
+	}
+
+	public static OrderParentToChildren findByPrimaryKey(int childOrderId)
+	{
+		return finder.findByPrimaryKey(childOrderId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			OrderParentToChildrenData _castedTargetData = (OrderParentToChildrenData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getChildOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static OrderParentToChildren zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (OrderParentToChildren) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class OrderParentToChildrenRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<OrderParentToChildren, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> childOrderId;
+		private IntegerAttribute<ParentOwnerType> parentOrderId;
+		private OrderParentToChildrenParentOrderFinderSubclass<ParentOwnerType> parentOrder;
+		private OrderParentToChildrenChildOrderFinderSubclass<ParentOwnerType> childOrder;
+		public OrderParentToChildrenRelatedFinder()
+		{
+			super();
+		}
+
+		public OrderParentToChildrenRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.OrderParentToChildrenFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return OrderParentToChildrenFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return OrderParentToChildrenFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return OrderParentToChildrenFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.childOrderId();
+			attributes[1] = this.parentOrderId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.parentOrder());
+				relatedFinders.add(this.childOrder());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public OrderParentToChildren findOne(com.gs.fw.finder.Operation operation)
+		{
+			return OrderParentToChildrenFinder.findOne(operation, false);
+		}
+
+		public OrderParentToChildren findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return OrderParentToChildrenFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends OrderParentToChildren> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new OrderParentToChildrenList((Operation) operation);
+		}
+
+		public MithraList<? extends OrderParentToChildren> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			OrderParentToChildrenList result = (OrderParentToChildrenList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends OrderParentToChildren> constructEmptyList()
+		{
+			return new OrderParentToChildrenList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 263599702;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> childOrderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.childOrderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CHILD_ORDER_ID","","childOrderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(OrderParentToChildrenFinder.childOrderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("childOrder");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Order", "parentToChildAsChild");
+				this.childOrderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> parentOrderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.parentOrderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PARENT_ORDER_ID","","parentOrderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(OrderParentToChildrenFinder.parentOrderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parentOrder");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Order", "parentToChildAsParent");
+				this.parentOrderId = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderParentToChildren> parentOrder()
+		{
+			OrderParentToChildrenParentOrderFinderSubclass<ParentOwnerType> result = this.parentOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderParentToChildAsParentMapper());
+				newMapper.setToMany(false);
+				result = new OrderParentToChildrenParentOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parentOrder = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderParentToChildren> childOrder()
+		{
+			OrderParentToChildrenChildOrderFinderSubclass<ParentOwnerType> result = this.childOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderParentToChildAsChildMapper());
+				newMapper.setToMany(false);
+				result = new OrderParentToChildrenChildOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.childOrder = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return OrderParentToChildrenFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return OrderParentToChildrenFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class OrderParentToChildrenCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends OrderParentToChildrenRelatedFinder<ParentOwnerType, ReturnType, OrderParentToChildrenList, OwnerType>
+	{
+		public OrderParentToChildrenCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class OrderParentToChildrenCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends OrderParentToChildrenCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public OrderParentToChildrenCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class OrderParentToChildrenSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends OrderParentToChildrenRelatedFinder<ParentOwnerType, ReturnType, OrderParentToChildrenList, OwnerType>
+	implements ToOneFinder
+	{
+		public OrderParentToChildrenSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public OrderParentToChildrenSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(OrderParentToChildren other)
+		{
+			return this.childOrderId().eq(other.getChildOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public OrderParentToChildren findByPrimaryKey(int childOrderId)
+		{
+			OrderParentToChildren _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(childOrderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (OrderParentToChildren) _related;
+			if (_related == null)
+			{
+				_op = this.childOrderId().eq(childOrderId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class OrderParentToChildrenSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends OrderParentToChildrenSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public OrderParentToChildrenSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to ORDER_PARENT_CHILD.CHILD_ORDER_ID **/
+	public static IntegerAttribute<OrderParentToChildren> childOrderId()
+	{
+		return finder.childOrderId();
+	}
+
+	/** maps to ORDER_PARENT_CHILD.PARENT_ORDER_ID **/
+	public static IntegerAttribute<OrderParentToChildren> parentOrderId()
+	{
+		return finder.parentOrderId();
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<OrderParentToChildren, Order, OrderParentToChildren> parentOrder()
+	{
+		return finder.parentOrder();
+	}
+
+	public static class OrderParentToChildrenParentOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderParentToChildren>
+	{
+		public OrderParentToChildrenParentOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parentOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderParentToChildrenParentOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(OrderParentToChildren _obj)
+		{
+			return _obj.getParentOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderParentToChildrenList)_obj).getParentOrders();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<OrderParentToChildren, Order, OrderParentToChildren> childOrder()
+	{
+		return finder.childOrder();
+	}
+
+	public static class OrderParentToChildrenChildOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderParentToChildren>
+	{
+		public OrderParentToChildrenChildOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "childOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderParentToChildrenChildOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(OrderParentToChildren _obj)
+		{
+			return _obj.getChildOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderParentToChildrenList)_obj).getChildOrders();
+		}
+	}
+
+	public static Operation eq(OrderParentToChildren other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(childOrderId());
+	}
+
+	public static OrderParentToChildrenSingleFinder<OrderParentToChildren, Object, OrderParentToChildren> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			childOrderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			childOrderId()
+			, childOrderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			parentOrderId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.OrderParentToChildren");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,650 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderStatusAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+implements
+OrderStatusInterface
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OrderStatus.class.getName());
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final RelationshipHashStrategy fororderWithInterface = new OrderWithInterfaceRhs();
+	private static final RelationshipHashStrategy forreadOnlyOrderWithInterface = new ReadOnlyOrderWithInterfaceRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderStatusData _castedSrcData = (OrderStatusData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderStatusData _castedSrcData = (OrderStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderWithInterfaceRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderStatusData _castedSrcData = (OrderStatusData) _srcData;
+			OrderWiData _castedTargetData = (OrderWiData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderStatusData _castedSrcData = (OrderStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ReadOnlyOrderWithInterfaceRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderStatusData _castedSrcData = (OrderStatusData) _srcData;
+			ReadOnlyOrderWiImpl _castedTargetData = (ReadOnlyOrderWiImpl) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderStatusData _castedSrcData = (OrderStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public OrderStatusAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OrderStatus getDetachedCopy() throws MithraBusinessException
+	{
+		return (OrderStatus) super.getDetachedCopy();
+	}
+
+	public OrderStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		OrderStatus result = (OrderStatus) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (behavior.isPersisted()) return;
+		behavior.insert(this);
+	}
+
+	public OrderStatus copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		if (behavior.isPersisted()) return (OrderStatus) this;
+		OrderStatus original = (OrderStatus) behavior.updateOriginalOrInsert(this);
+		return original;
+	}
+
+	public OrderStatus copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OrderStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public OrderStatus zFindOriginal()
+	{
+		OrderStatusData data = (OrderStatusData) this.currentData;
+		Operation op;
+		op = OrderStatusFinder.orderId().eq(data.getOrderId());
+		return OrderStatusFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderStatusData();
+	}
+
+	protected void zSetFromOrderStatusData( OrderStatusData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderStatusData( OrderStatusData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isExpectedDateNull()
+	{
+		return ((OrderStatusData) this.zSynchronizedGetData()).isExpectedDateNull();
+	}
+
+	public Date getExpectedDate()
+	{
+		OrderStatusData data = (OrderStatusData) this.zSynchronizedGetData();
+		return data.getExpectedDate();
+	}
+
+	public void setExpectedDate(Date newValue)
+	{
+		zSetDate(OrderStatusFinder.expectedDate(), newValue, false, false );
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return ((OrderStatusData) this.zSynchronizedGetData()).isLastUpdateTimeNull();
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		OrderStatusData data = (OrderStatusData) this.zSynchronizedGetData();
+		return data.getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(OrderStatusFinder.lastUpdateTime(), newValue, false, false );
+	}
+
+	public boolean isLastUserNull()
+	{
+		return ((OrderStatusData) this.zSynchronizedGetData()).isLastUserNull();
+	}
+
+	public String getLastUser()
+	{
+		OrderStatusData data = (OrderStatusData) this.zSynchronizedGetData();
+		return data.getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OrderStatusFinder.lastUser(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OrderStatusData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OrderStatusData data = (OrderStatusData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderStatusFinder.orderId(), newValue, true, false ,false);
+	}
+
+	public boolean isStatusNull()
+	{
+		return ((OrderStatusData) this.zSynchronizedGetData()).isStatusNull();
+	}
+
+	public int getStatus()
+	{
+		OrderStatusData data = (OrderStatusData) this.zSynchronizedGetData();
+		if (data.isStatusNull()) MithraNullPrimitiveException.throwNew("status", data);
+		return data.getStatus();
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(OrderStatusFinder.status(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderStatusFinder.status(), false);
+	}
+
+	public void setStatusNull()
+	{
+		zNullify(OrderStatusFinder.status(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderStatusData _newData = (OrderStatusData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderStatusData _newData = (OrderStatusData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderStatusData _newData = (OrderStatusData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId</pre>
+	* @see Order#getOrderStatus() reverse relationship Order.getOrderStatus()
+	* @return The order
+	*/
+	public Order getOrder()
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderStatusData _data = (OrderStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (Order) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderFinder.orderId().eq(_data.getOrderId());
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (OrderStatusData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(Order order)
+	{
+		((Order)order).setOrderStatus((OrderStatus)this);
+	}
+
+	public void zSetParentContainerorder(OrderAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderStatusData _data = (OrderStatusData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderWi.orderId</pre>
+	* @see OrderWi#getOrderStatusWithoutInterfaces() reverse relationship OrderWi.getOrderStatusWithoutInterfaces()
+	* @return The order with interface
+	*/
+	public OrderWi getOrderWithInterface()
+	{
+		OrderWiImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderStatusData _data = (OrderStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderWithInterface, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = OrderWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderWithInterface() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderWiImpl) _data.getOrderWithInterface();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderWiFinder.orderId().eq(_data.getOrderId());
+					_result = OrderWiFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (OrderStatusData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderWithInterface(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderWiImpl) _data.getOrderWithInterface();
+			if (_result == null)
+			{
+				{
+					_op = OrderWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderWithInterface(OrderWi orderWithInterface)
+	{
+		((OrderWiImpl)orderWithInterface).setOrderStatusWithoutInterfaces((OrderStatus)this);
+	}
+
+	public void zSetParentContainerorderWithInterface(OrderWiImplAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderStatusData _data = (OrderStatusData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderWithInterface(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyOrderWi.orderId</pre>
+	* @see ReadOnlyOrderWi#getOrderStatusWithoutInterfaces() reverse relationship ReadOnlyOrderWi.getOrderStatusWithoutInterfaces()
+	* @return The read only order with interface
+	*/
+	public ReadOnlyOrderWi getReadOnlyOrderWithInterface()
+	{
+		ReadOnlyOrderWiImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderStatusData _data = (OrderStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ReadOnlyOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forreadOnlyOrderWithInterface, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = ReadOnlyOrderWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getReadOnlyOrderWithInterface() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ReadOnlyOrderWiImpl) _data.getReadOnlyOrderWithInterface();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = ReadOnlyOrderWiFinder.orderId().eq(_data.getOrderId());
+					_result = ReadOnlyOrderWiFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ReadOnlyOrderWiImpl) _data.getReadOnlyOrderWithInterface();
+			if (_result == null)
+			{
+				{
+					_op = ReadOnlyOrderWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ReadOnlyOrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setReadOnlyOrderWithInterface(ReadOnlyOrderWi readOnlyOrderWithInterface)
+	{
+		((ReadOnlyOrderWiImpl)readOnlyOrderWithInterface).setOrderStatusWithoutInterfaces((OrderStatus)this);
+	}
+
+	public void zSetParentContainerreadOnlyOrderWithInterface(ReadOnlyOrderWiImplAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderStatusData _data = (OrderStatusData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setReadOnlyOrderWithInterface(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isPersisted()) return;
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public OrderStatus zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isPersisted()) return (OrderStatus) this;
+		OrderStatus original = (OrderStatus) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderStatusFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public OrderStatus getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDate(behavior, data, newData, OrderStatusFinder.expectedDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, OrderStatusFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderStatusFinder.lastUser(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderStatusFinder.status(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderStatusFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderStatusAbstract result = (OrderStatusAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
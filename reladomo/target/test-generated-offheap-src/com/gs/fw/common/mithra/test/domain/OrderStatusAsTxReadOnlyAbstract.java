@@ -0,0 +1,418 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderStatusAsTxReadOnlyAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OrderStatusAsTxReadOnly.class.getName());
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderStatusAsTxReadOnlyData _castedSrcData = (OrderStatusAsTxReadOnlyData) _srcData;
+			OrderAsTxReadOnlyData _castedTargetData = (OrderAsTxReadOnlyData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderStatusAsTxReadOnlyData _castedSrcData = (OrderStatusAsTxReadOnlyData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public OrderStatusAsTxReadOnlyAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OrderStatusAsTxReadOnly getDetachedCopy() throws MithraBusinessException
+	{
+		return (OrderStatusAsTxReadOnly) super.getDetachedCopy();
+	}
+
+	public OrderStatusAsTxReadOnly getNonPersistentCopy() throws MithraBusinessException
+	{
+		OrderStatusAsTxReadOnly result = (OrderStatusAsTxReadOnly) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public OrderStatusAsTxReadOnly copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OrderStatusAsTxReadOnly) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public OrderStatusAsTxReadOnly zFindOriginal()
+	{
+		OrderStatusAsTxReadOnlyData data = (OrderStatusAsTxReadOnlyData) this.currentData;
+		Operation op;
+		op = OrderStatusAsTxReadOnlyFinder.orderId().eq(data.getOrderId());
+		return OrderStatusAsTxReadOnlyFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderStatusAsTxReadOnlyData();
+	}
+
+	protected void zSetFromOrderStatusAsTxReadOnlyData( OrderStatusAsTxReadOnlyData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderStatusAsTxReadOnlyData( OrderStatusAsTxReadOnlyData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isExpectedDateNull()
+	{
+		return ((OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData()).isExpectedDateNull();
+	}
+
+	public Date getExpectedDate()
+	{
+		OrderStatusAsTxReadOnlyData data = (OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData();
+		return data.getExpectedDate();
+	}
+
+	public void setExpectedDate(Date newValue)
+	{
+		zSetDate(OrderStatusAsTxReadOnlyFinder.expectedDate(), newValue, false, false );
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return ((OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData()).isLastUpdateTimeNull();
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		OrderStatusAsTxReadOnlyData data = (OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData();
+		return data.getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(OrderStatusAsTxReadOnlyFinder.lastUpdateTime(), newValue, false, false );
+	}
+
+	public boolean isLastUserNull()
+	{
+		return ((OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData()).isLastUserNull();
+	}
+
+	public String getLastUser()
+	{
+		OrderStatusAsTxReadOnlyData data = (OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData();
+		return data.getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OrderStatusAsTxReadOnlyFinder.lastUser(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OrderStatusAsTxReadOnlyData data = (OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderStatusAsTxReadOnlyFinder.orderId(), newValue, true, false ,false);
+	}
+
+	public boolean isStatusNull()
+	{
+		return ((OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData()).isStatusNull();
+	}
+
+	public int getStatus()
+	{
+		OrderStatusAsTxReadOnlyData data = (OrderStatusAsTxReadOnlyData) this.zSynchronizedGetData();
+		if (data.isStatusNull()) MithraNullPrimitiveException.throwNew("status", data);
+		return data.getStatus();
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(OrderStatusAsTxReadOnlyFinder.status(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderStatusAsTxReadOnlyFinder.status(), false);
+	}
+
+	public void setStatusNull()
+	{
+		zNullify(OrderStatusAsTxReadOnlyFinder.status(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderStatusAsTxReadOnlyData _newData = (OrderStatusAsTxReadOnlyData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderStatusAsTxReadOnlyData _newData = (OrderStatusAsTxReadOnlyData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderStatusAsTxReadOnlyData _newData = (OrderStatusAsTxReadOnlyData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderAsTxReadOnly.orderId</pre>
+	* @see OrderAsTxReadOnly#getOrderStatus() reverse relationship OrderAsTxReadOnly.getOrderStatus()
+	* @return The order
+	*/
+	public OrderAsTxReadOnly getOrder()
+	{
+		OrderAsTxReadOnly _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderStatusAsTxReadOnlyData _data = (OrderStatusAsTxReadOnlyData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderAsTxReadOnlyFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderAsTxReadOnly) _related;
+				if (_related == null)
+				{
+					_op = OrderAsTxReadOnlyFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderAsTxReadOnly) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderAsTxReadOnlyFinder.orderId().eq(_data.getOrderId());
+					_result = OrderAsTxReadOnlyFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (OrderStatusAsTxReadOnlyData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderAsTxReadOnly) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					_op = OrderAsTxReadOnlyFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderAsTxReadOnlyFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(OrderAsTxReadOnly order)
+	{
+		((OrderAsTxReadOnly)order).setOrderStatus((OrderStatusAsTxReadOnly)this);
+	}
+
+	public void zSetParentContainerorder(OrderAsTxReadOnlyAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderStatusAsTxReadOnlyData _data = (OrderStatusAsTxReadOnlyData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public OrderStatusAsTxReadOnly zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderStatusAsTxReadOnly original = (OrderStatusAsTxReadOnly) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderStatusAsTxReadOnlyFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderStatusAsTxReadOnlyFinder.getMithraObjectPortal();
+	}
+
+	public OrderStatusAsTxReadOnly getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDate(behavior, data, newData, OrderStatusAsTxReadOnlyFinder.expectedDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, OrderStatusAsTxReadOnlyFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderStatusAsTxReadOnlyFinder.lastUser(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderStatusAsTxReadOnlyFinder.status(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderStatusAsTxReadOnlyFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderStatusAsTxReadOnlyAbstract result = (OrderStatusAsTxReadOnlyAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
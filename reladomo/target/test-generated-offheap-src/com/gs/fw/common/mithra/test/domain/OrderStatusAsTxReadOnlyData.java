@@ -0,0 +1,432 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class OrderStatusAsTxReadOnlyData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private Date expectedDate;
+	private Timestamp lastUpdateTime;
+	private String lastUser;
+	private int orderId;
+	private int status;
+	public boolean isExpectedDateNull()
+	{
+		return this.getExpectedDate() == null;
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return this.getLastUpdateTime() == null;
+	}
+
+	public boolean isLastUserNull()
+	{
+		return this.getLastUser() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStatusNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.expectedDate);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastUpdateTime);
+		out.writeObject(this.lastUser);
+		out.writeInt(this.orderId);
+		out.writeInt(this.status);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public Date getExpectedDate()
+	{
+		return this.expectedDate;
+	}
+
+	public void setExpectedDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.expectedDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.expectedDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setExpectedDateNull()
+	{
+		this.setExpectedDate(null);
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		return this.lastUpdateTime;
+	}
+
+	public long zGetLastUpdateTimeAsLong()
+	{
+		if (lastUpdateTime == null) return TimestampPool.OFF_HEAP_NULL;
+		return lastUpdateTime.getTime();
+	}
+
+	public void setLastUpdateTime(Timestamp value)
+	{
+		this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(value, OrderStatusAsTxReadOnlyFinder.isFullCache(), OrderStatusAsTxReadOnlyFinder.isOffHeap());
+	}
+
+	public void setLastUpdateTimeNull()
+	{
+		this.setLastUpdateTime(null);
+	}
+
+	public String getLastUser()
+	{
+		return this.lastUser;
+	}
+
+	public int zGetLastUserAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(lastUser);
+	}
+
+	public void setLastUser(String value)
+	{
+		this.lastUser = StringPool.getInstance().getOrAddToCache(value, OrderStatusAsTxReadOnlyFinder.isFullCache());
+	}
+
+	public void setLastUserNull()
+	{
+		this.setLastUser(null);
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.orderId = value;
+	}
+
+	public void setOrderIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getStatus()
+	{
+		return this.status;
+	}
+
+	public void setStatus(int value)
+	{
+		this.status = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setStatusNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(OrderStatusAsTxReadOnlyData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.expectedDate = this.expectedDate;
+		copy.lastUpdateTime = this.lastUpdateTime;
+		copy.lastUser = this.lastUser;
+		copy.orderId = this.orderId;
+		copy.status = this.status;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.expectedDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), OrderStatusAsTxReadOnlyFinder.isFullCache(), OrderStatusAsTxReadOnlyFinder.isOffHeap());
+		this.lastUser = StringPool.getInstance().getOrAddToCache((String)in.readObject(), OrderStatusAsTxReadOnlyFinder.isFullCache());
+		this.orderId = in.readInt();
+		this.status = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final OrderStatusAsTxReadOnlyData otherData = (OrderStatusAsTxReadOnlyData) other;
+		if (getOrderId() != otherData.getOrderId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.orderId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.orderId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getOrder()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setOrder(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final OrderStatusAsTxReadOnlyData orderStatusAsTxReadOnlyData = (OrderStatusAsTxReadOnlyData) newData;
+		this.setExpectedDate(orderStatusAsTxReadOnlyData.getExpectedDate());
+		this.setLastUpdateTime(orderStatusAsTxReadOnlyData.getLastUpdateTime());
+		this.setLastUser(orderStatusAsTxReadOnlyData.getLastUser());
+		this.setStatus(orderStatusAsTxReadOnlyData.getStatus());
+		if (orderStatusAsTxReadOnlyData.isStatusNull()) this.setStatusNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final OrderStatusAsTxReadOnlyData other = (OrderStatusAsTxReadOnlyData) newData;
+		if (!isExpectedDateNull() ? !getExpectedDate().equals(other.getExpectedDate()) : !other.isExpectedDateNull())
+		{
+			return true;
+		}
+
+		if (!isLastUpdateTimeNull() ? !getLastUpdateTime().equals(other.getLastUpdateTime()) : !other.isLastUpdateTimeNull())
+		{
+			return true;
+		}
+
+		if (!isLastUserNull() ? !getLastUser().equals(other.getLastUser()) : !other.isLastUserNull())
+		{
+			return true;
+		}
+
+		if ( isStatusNull() != other.isStatusNull() || getStatus() != other.getStatus())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		OrderStatusAsTxReadOnlyData copy = new OrderStatusAsTxReadOnlyData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		OrderStatusAsTxReadOnlyData copy = new OrderStatusAsTxReadOnlyData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "orderId: "+(""+getOrderId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.OrderStatusAsTxReadOnlyData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return OrderStatusAsTxReadOnlyFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return OrderStatusAsTxReadOnlyFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.OrderStatusAsTxReadOnlyData";
+	}
+}
@@ -0,0 +1,28 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderStatusWiAbstract
+{
+	Timestamp getLastUpdateTime();
+	void setLastUpdateTime(Timestamp newValue);
+	boolean isLastUpdateTimeNull();
+	String getLastUser();
+	void setLastUser(String newValue);
+	boolean isLastUserNull();
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	int getStatus();
+	void setStatus(int newValue);
+	boolean isStatusNull();
+	void setStatusNull();
+	public Order getOrderWithoutInterface();
+	void setOrderWithoutInterface(Order orderWithoutInterface);
+	public OrderWi getOrder();
+	void setOrder(OrderWi order);
+}
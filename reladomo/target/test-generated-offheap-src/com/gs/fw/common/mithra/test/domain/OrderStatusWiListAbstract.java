@@ -0,0 +1,13 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderStatusWiListAbstract extends List<OrderStatusWi>
+{
+	public OrderList getOrderWithoutInterfaces();
+	public OrderWiList getOrders();
+	public void setLastUpdateTime(Timestamp newValue);
+	public void setLastUser(String newValue);
+	public void setOrderId(int newValue);
+	public void setStatus(int newValue);
+}
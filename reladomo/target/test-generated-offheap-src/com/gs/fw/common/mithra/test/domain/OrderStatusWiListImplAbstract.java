@@ -0,0 +1,190 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderStatusWiListImplAbstract extends DelegatingList<OrderStatusWi> implements MithraTransactionalList<OrderStatusWi>
+{
+	public OrderStatusWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderStatusWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderStatusWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderStatusWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderStatusWi[] elements()
+	{
+		OrderStatusWi[] result = new OrderStatusWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderStatusWiListImpl intersection(OrderStatusWiListImpl another)
+	{
+		return (OrderStatusWiListImpl)super.intersection(another);
+	}
+
+	public OrderStatusWiImpl getOrderStatusWiAt(int index)
+	{
+		return (OrderStatusWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId</pre>
+	* @see Order#getOrderStatusWithInterfaces() reverse relationship Order.getOrderStatusWithInterfaces()
+	* @return The order without interface
+	*/
+	public OrderList getOrderWithoutInterfaces()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, OrderStatusWiFinder.orderWithoutInterface());
+	}
+
+	public void zSetParentContainerorderWithoutInterface(OrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderStatusWiImpl item = this.getOrderStatusWiAt(i);
+			item.zSetParentContainerorderWithoutInterface(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderWi.orderId</pre>
+	* @see OrderWi#getOrderStatus() reverse relationship OrderWi.getOrderStatus()
+	* @return The order
+	*/
+	public OrderWiList getOrders()
+	{
+		return (OrderWiList) this.zGetDelegated().resolveRelationship(this, OrderStatusWiFinder.order());
+	}
+
+	public void zSetParentContainerorder(OrderWiImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderStatusWiImpl item = this.getOrderStatusWiAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderStatusWiFinder.getMithraObjectPortal();
+	}
+
+	public OrderStatusWiListImpl getNonPersistentCopy()
+	{
+		OrderStatusWiListImpl result = new OrderStatusWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderStatusWiListImpl asAdhoc()
+	{
+		return (OrderStatusWiListImpl) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<OrderStatusWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OrderStatusWiListImpl merge(MithraTransactionalList<OrderStatusWi> incoming, TopLevelMergeOptions<OrderStatusWi> mergeOptions)
+	{
+		return (OrderStatusWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderStatusWiListImpl getDetachedCopy()
+	{
+		OrderStatusWiListImpl result = new OrderStatusWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderStatusWiFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(OrderStatusWiFinder.status(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(OrderStatusWiFinder.lastUser(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(OrderStatusWiFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(OrderStatusWiFinder.status());
+	}
+}
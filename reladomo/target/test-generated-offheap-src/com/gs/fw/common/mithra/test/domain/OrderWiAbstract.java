@@ -0,0 +1,43 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderWiAbstract
+{
+	String getDescription();
+	void setDescription(String newValue);
+	boolean isDescriptionNull();
+	Timestamp getOrderDate();
+	void setOrderDate(Timestamp newValue);
+	boolean isOrderDateNull();
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	String getState();
+	void setState(String newValue);
+	boolean isStateNull();
+	String getTrackingId();
+	void setTrackingId(String newValue);
+	boolean isTrackingIdNull();
+	int getUserId();
+	void setUserId(int newValue);
+	boolean isUserIdNull();
+	void setUserIdNull();
+	public OrderItemWiList getItems();
+	void setItems(OrderItemWiList items);
+	public OrderItemList getItemsWithoutInterfaces();
+	void setItemsWithoutInterfaces(OrderItemList itemsWithoutInterfaces);
+	public OrderStatusWi getOrderStatus();
+	void setOrderStatus(OrderStatusWi orderStatus);
+	public OrderStatus getOrderStatusWithoutInterfaces();
+	void setOrderStatusWithoutInterfaces(OrderStatus orderStatusWithoutInterfaces);
+	public List getCheapItems(double price);
+	public List getCheapItemsWithoutInterfaces(double price);
+	public OrderClassificationWiList getClassifications();
+	void setClassifications(OrderClassificationWiList classifications);
+	public OrderClassificationWi getClassificationById(int classificationId);
+}
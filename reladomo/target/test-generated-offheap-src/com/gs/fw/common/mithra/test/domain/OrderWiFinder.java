@@ -0,0 +1,1527 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class OrderWiFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/OrderWiImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.OrderWi";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.OrderWi");
+	private static final OrderWiSingleFinder<OrderWi, Object, OrderWi> finder = new OrderWiSingleFinder<OrderWi, Object, OrderWi>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(OrderWiFinder.OrderWiRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("itemsWithoutInterfaces");
+		finderMethodMap.addRelationshipName("orderStatus");
+		finderMethodMap.addRelationshipName("orderStatusWithoutInterfaces");
+		finderMethodMap.addRelationshipName("classifications");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[10];
+			result[0] = OrderWiFinder.orderId().constructEqualityMapper(OrderItemWiFinder.orderId());
+			result[1] = OrderItemWiFinder.orderId().constructEqualityMapper(OrderWiFinder.orderId());
+			result[2] = OrderWiFinder.orderId().constructEqualityMapper(OrderItemFinder.orderId());
+			result[3] = OrderItemFinder.orderId().constructEqualityMapper(OrderWiFinder.orderId());
+			result[4] = OrderWiFinder.orderId().constructEqualityMapper(OrderStatusWiFinder.orderId());
+			result[5] = OrderStatusWiFinder.orderId().constructEqualityMapper(OrderWiFinder.orderId());
+			result[6] = OrderWiFinder.orderId().constructEqualityMapper(OrderStatusFinder.orderId());
+			result[7] = OrderStatusFinder.orderId().constructEqualityMapper(OrderWiFinder.orderId());
+			result[8] = OrderWiFinder.orderId().constructEqualityMapper(OrderClassificationWiFinder.orderId());
+			result[9] = OrderClassificationWiFinder.orderId().constructEqualityMapper(OrderWiFinder.orderId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static OrderWi findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static OrderWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static OrderWiList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (OrderWiListImpl) finder.findMany(operation);
+	}
+
+	public static OrderWiList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (OrderWiListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static OrderWi findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (OrderWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static OrderWi findByPrimaryKey(int orderId)
+	{
+		return finder.findByPrimaryKey(orderId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			OrderWiData _castedTargetData = (OrderWiData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static OrderWiImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (OrderWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class OrderWiRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<OrderWi, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private OrderWiItemsFinderSubclass<ParentOwnerType> items;
+		private OrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType> itemsWithoutInterfaces;
+		private OrderWiOrderStatusFinderSubclass<ParentOwnerType> orderStatus;
+		private OrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType> orderStatusWithoutInterfaces;
+		private OrderWiClassificationsFinderSubclass<ParentOwnerType> classifications;
+		public OrderWiRelatedFinder()
+		{
+			super();
+		}
+
+		public OrderWiRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.OrderWiFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return OrderWiFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return OrderWiFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return OrderWiFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(5);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.itemsWithoutInterfaces());
+				relatedFinders.add(this.orderStatus());
+				relatedFinders.add(this.orderStatusWithoutInterfaces());
+				relatedFinders.add(this.classifications());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(4);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.itemsWithoutInterfaces());
+				dependentRelatedFinders.add(this.orderStatus());
+				dependentRelatedFinders.add(this.orderStatusWithoutInterfaces());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public OrderWi findOne(com.gs.fw.finder.Operation operation)
+		{
+			return OrderWiFinder.findOne(operation, false);
+		}
+
+		public OrderWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return OrderWiFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends OrderWi> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new OrderWiListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends OrderWi> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			OrderWiListImpl result = (OrderWiListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends OrderWi> constructEmptyList()
+		{
+			return new OrderWiListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -744407479;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(OrderWiFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(OrderWiFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(OrderWiFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(OrderWiFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(OrderWiFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(OrderWiFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemWiFinder.OrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemWiList, OrderWi> items()
+		{
+			OrderWiItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderWiFinder.zGetOrderWiItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderWiItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, OrderWi> itemsWithoutInterfaces()
+		{
+			OrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType> result = this.itemsWithoutInterfaces;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderWiFinder.zGetOrderWiItemsWithoutInterfacesReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsWithoutInterfaces = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusWiFinder.OrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, OrderStatusWi, OrderWi> orderStatus()
+		{
+			OrderWiOrderStatusFinderSubclass<ParentOwnerType> result = this.orderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderWiFinder.zGetOrderWiOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new OrderWiOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, OrderWi> orderStatusWithoutInterfaces()
+		{
+			OrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType> result = this.orderStatusWithoutInterfaces;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderWiFinder.zGetOrderWiOrderStatusWithoutInterfacesReverseMapper());
+				newMapper.setToMany(false);
+				result = new OrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusWithoutInterfaces = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemWiFinder.OrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, List, OrderWi> cheapItems(double price)
+		{
+			OrderWiCheapItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderWiFinder.zGetOrderWiCheapItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new OrderWiCheapItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, OrderWi> cheapItemsWithoutInterfaces(double price)
+		{
+			OrderWiCheapItemsWithoutInterfacesFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderWiFinder.zGetOrderWiCheapItemsWithoutInterfacesReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new OrderWiCheapItemsWithoutInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public OrderClassificationWiFinder.OrderClassificationWiCollectionFinderForRelatedClasses<ParentOwnerType, OrderClassificationWiList, OrderWi> classifications()
+		{
+			OrderWiClassificationsFinderSubclass<ParentOwnerType> result = this.classifications;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderWiFinder.zGetOrderWiClassificationsReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderWiClassificationsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.classifications = result;
+			}
+
+			return result;
+		}
+
+		public OrderClassificationWiFinder.OrderClassificationWiSingleFinderForRelatedClasses<ParentOwnerType, OrderClassificationWi, OrderWi> classificationById(int classificationId)
+		{
+			OrderWiClassificationByIdFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderWiFinder.zGetOrderWiClassificationByIdReverseMapper(classificationId));
+			newMapper.setToMany(false);
+			result = new OrderWiClassificationByIdFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,classificationId);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return OrderWiFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return OrderWiFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class OrderWiCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends OrderWiRelatedFinder<ParentOwnerType, ReturnType, OrderWiList, OwnerType>
+	{
+		public OrderWiCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class OrderWiCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends OrderWiCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public OrderWiCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class OrderWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends OrderWiRelatedFinder<ParentOwnerType, ReturnType, OrderWiList, OwnerType>
+	implements ToOneFinder
+	{
+		public OrderWiSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public OrderWiSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(OrderWi other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public OrderWi findByPrimaryKey(int orderId)
+		{
+			OrderWi _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (OrderWi) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class OrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends OrderWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public OrderWiSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetOrderWiItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructOrderWiItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetOrderWiItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructOrderWiItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetOrderWiItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructOrderWiItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderWiItemsPureReverseMapper()
+	{
+		Mapper itemsMapper = OrderWiFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructOrderWiItemsReverseMapper()
+	{
+		Mapper itemsMapper = OrderWiFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructOrderWiItemsMapper()
+	{
+		Mapper itemsMapper = OrderWiFinder.zGetConstantJoin(1);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacesReverseMapper = null;
+	public static Mapper zGetOrderWiItemsWithoutInterfacesReverseMapper()
+	{
+		if (itemsWithoutInterfacesReverseMapper == null)
+		{
+			itemsWithoutInterfacesReverseMapper = zConstructOrderWiItemsWithoutInterfacesReverseMapper();
+		}
+
+		return itemsWithoutInterfacesReverseMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacesMapper = null;
+	public static Mapper zGetOrderWiItemsWithoutInterfacesMapper()
+	{
+		if (itemsWithoutInterfacesMapper == null)
+		{
+			itemsWithoutInterfacesMapper = zConstructOrderWiItemsWithoutInterfacesMapper();
+		}
+
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacesPureReverseMapper = null;
+	public static Mapper zGetOrderWiItemsWithoutInterfacesPureReverseMapper()
+	{
+		if (itemsWithoutInterfacesPureReverseMapper == null)
+		{
+			itemsWithoutInterfacesPureReverseMapper = zConstructOrderWiItemsWithoutInterfacesPureReverseMapper();
+		}
+
+		return itemsWithoutInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderWiItemsWithoutInterfacesPureReverseMapper()
+	{
+		Mapper itemsWithoutInterfacesMapper = OrderWiFinder.zGetConstantJoin(2);
+		itemsWithoutInterfacesMapper.setName("itemsWithoutInterfaces");
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderWiItemsWithoutInterfacesReverseMapper()
+	{
+		Mapper itemsWithoutInterfacesMapper = OrderWiFinder.zGetConstantJoin(2);
+		itemsWithoutInterfacesMapper.setName("itemsWithoutInterfaces");
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderWiItemsWithoutInterfacesMapper()
+	{
+		Mapper itemsWithoutInterfacesMapper = OrderWiFinder.zGetConstantJoin(3);
+		itemsWithoutInterfacesMapper.setName("orderWithInterface");
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper orderStatusReverseMapper = null;
+	public static Mapper zGetOrderWiOrderStatusReverseMapper()
+	{
+		if (orderStatusReverseMapper == null)
+		{
+			orderStatusReverseMapper = zConstructOrderWiOrderStatusReverseMapper();
+		}
+
+		return orderStatusReverseMapper;
+	}
+
+	private static Mapper orderStatusMapper = null;
+	public static Mapper zGetOrderWiOrderStatusMapper()
+	{
+		if (orderStatusMapper == null)
+		{
+			orderStatusMapper = zConstructOrderWiOrderStatusMapper();
+		}
+
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusPureReverseMapper = null;
+	public static Mapper zGetOrderWiOrderStatusPureReverseMapper()
+	{
+		if (orderStatusPureReverseMapper == null)
+		{
+			orderStatusPureReverseMapper = zConstructOrderWiOrderStatusPureReverseMapper();
+		}
+
+		return orderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderWiOrderStatusPureReverseMapper()
+	{
+		Mapper orderStatusMapper = OrderWiFinder.zGetConstantJoin(4);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructOrderWiOrderStatusReverseMapper()
+	{
+		Mapper orderStatusMapper = OrderWiFinder.zGetConstantJoin(4);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructOrderWiOrderStatusMapper()
+	{
+		Mapper orderStatusMapper = OrderWiFinder.zGetConstantJoin(5);
+		orderStatusMapper.setName("order");
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacesReverseMapper = null;
+	public static Mapper zGetOrderWiOrderStatusWithoutInterfacesReverseMapper()
+	{
+		if (orderStatusWithoutInterfacesReverseMapper == null)
+		{
+			orderStatusWithoutInterfacesReverseMapper = zConstructOrderWiOrderStatusWithoutInterfacesReverseMapper();
+		}
+
+		return orderStatusWithoutInterfacesReverseMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacesMapper = null;
+	public static Mapper zGetOrderWiOrderStatusWithoutInterfacesMapper()
+	{
+		if (orderStatusWithoutInterfacesMapper == null)
+		{
+			orderStatusWithoutInterfacesMapper = zConstructOrderWiOrderStatusWithoutInterfacesMapper();
+		}
+
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacesPureReverseMapper = null;
+	public static Mapper zGetOrderWiOrderStatusWithoutInterfacesPureReverseMapper()
+	{
+		if (orderStatusWithoutInterfacesPureReverseMapper == null)
+		{
+			orderStatusWithoutInterfacesPureReverseMapper = zConstructOrderWiOrderStatusWithoutInterfacesPureReverseMapper();
+		}
+
+		return orderStatusWithoutInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderWiOrderStatusWithoutInterfacesPureReverseMapper()
+	{
+		Mapper orderStatusWithoutInterfacesMapper = OrderWiFinder.zGetConstantJoin(6);
+		orderStatusWithoutInterfacesMapper.setName("orderStatusWithoutInterfaces");
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderWiOrderStatusWithoutInterfacesReverseMapper()
+	{
+		Mapper orderStatusWithoutInterfacesMapper = OrderWiFinder.zGetConstantJoin(6);
+		orderStatusWithoutInterfacesMapper.setName("orderStatusWithoutInterfaces");
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderWiOrderStatusWithoutInterfacesMapper()
+	{
+		Mapper orderStatusWithoutInterfacesMapper = OrderWiFinder.zGetConstantJoin(7);
+		orderStatusWithoutInterfacesMapper.setName("orderWithInterface");
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	public static Mapper zGetOrderWiCheapItemsReverseMapper(double price)
+	{
+		return zConstructOrderWiCheapItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetOrderWiCheapItemsMapper(double price)
+	{
+		return zConstructOrderWiCheapItemsMapper(price);
+	}
+
+	private static Mapper cheapItemsPureReverseMapper = null;
+	public static Mapper zGetOrderWiCheapItemsPureReverseMapper()
+	{
+		if (cheapItemsPureReverseMapper == null)
+		{
+			cheapItemsPureReverseMapper = zConstructOrderWiCheapItemsPureReverseMapper();
+		}
+
+		return cheapItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderWiCheapItemsPureReverseMapper()
+	{
+		Mapper cheapItemsMapper = OrderWiFinder.zGetConstantJoin(0);
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructOrderWiCheapItemsReverseMapper(double price)
+	{
+		Mapper cheapItemsMapperInnerMapper = OrderWiFinder.zGetConstantJoin(0);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, null, OrderItemWiFinder.originalPrice().lessThan(price));
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructOrderWiCheapItemsMapper(double price)
+	{
+		Mapper cheapItemsMapperInnerMapper = OrderWiFinder.zGetConstantJoin(1);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, OrderItemWiFinder.originalPrice().lessThan(price), null);
+		cheapItemsMapper.setName("cheapItems_Reverse");
+		return cheapItemsMapper;
+	}
+
+	public static Mapper zGetOrderWiCheapItemsWithoutInterfacesReverseMapper(double price)
+	{
+		return zConstructOrderWiCheapItemsWithoutInterfacesReverseMapper(price);
+	}
+
+	public static Mapper zGetOrderWiCheapItemsWithoutInterfacesMapper(double price)
+	{
+		return zConstructOrderWiCheapItemsWithoutInterfacesMapper(price);
+	}
+
+	private static Mapper cheapItemsWithoutInterfacesPureReverseMapper = null;
+	public static Mapper zGetOrderWiCheapItemsWithoutInterfacesPureReverseMapper()
+	{
+		if (cheapItemsWithoutInterfacesPureReverseMapper == null)
+		{
+			cheapItemsWithoutInterfacesPureReverseMapper = zConstructOrderWiCheapItemsWithoutInterfacesPureReverseMapper();
+		}
+
+		return cheapItemsWithoutInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderWiCheapItemsWithoutInterfacesPureReverseMapper()
+	{
+		Mapper cheapItemsWithoutInterfacesMapper = OrderWiFinder.zGetConstantJoin(2);
+		cheapItemsWithoutInterfacesMapper.setName("cheapItemsWithoutInterfaces");
+		return cheapItemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderWiCheapItemsWithoutInterfacesReverseMapper(double price)
+	{
+		Mapper cheapItemsWithoutInterfacesMapperInnerMapper = OrderWiFinder.zGetConstantJoin(2);
+		Mapper cheapItemsWithoutInterfacesMapper = new FilteredMapper(cheapItemsWithoutInterfacesMapperInnerMapper, null, OrderItemFinder.originalPrice().lessThan(price));
+		cheapItemsWithoutInterfacesMapper.setName("cheapItemsWithoutInterfaces");
+		return cheapItemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructOrderWiCheapItemsWithoutInterfacesMapper(double price)
+	{
+		Mapper cheapItemsWithoutInterfacesMapperInnerMapper = OrderWiFinder.zGetConstantJoin(3);
+		Mapper cheapItemsWithoutInterfacesMapper = new FilteredMapper(cheapItemsWithoutInterfacesMapperInnerMapper, OrderItemFinder.originalPrice().lessThan(price), null);
+		cheapItemsWithoutInterfacesMapper.setName("cheapItemsWithoutInterfaces_Reverse");
+		return cheapItemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper classificationsReverseMapper = null;
+	public static Mapper zGetOrderWiClassificationsReverseMapper()
+	{
+		if (classificationsReverseMapper == null)
+		{
+			classificationsReverseMapper = zConstructOrderWiClassificationsReverseMapper();
+		}
+
+		return classificationsReverseMapper;
+	}
+
+	private static Mapper classificationsMapper = null;
+	public static Mapper zGetOrderWiClassificationsMapper()
+	{
+		if (classificationsMapper == null)
+		{
+			classificationsMapper = zConstructOrderWiClassificationsMapper();
+		}
+
+		return classificationsMapper;
+	}
+
+	private static Mapper classificationsPureReverseMapper = null;
+	public static Mapper zGetOrderWiClassificationsPureReverseMapper()
+	{
+		if (classificationsPureReverseMapper == null)
+		{
+			classificationsPureReverseMapper = zConstructOrderWiClassificationsPureReverseMapper();
+		}
+
+		return classificationsPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderWiClassificationsPureReverseMapper()
+	{
+		Mapper classificationsMapper = OrderWiFinder.zGetConstantJoin(8);
+		classificationsMapper.setName("classifications");
+		return classificationsMapper;
+	}
+
+	private static Mapper zConstructOrderWiClassificationsReverseMapper()
+	{
+		Mapper classificationsMapper = OrderWiFinder.zGetConstantJoin(8);
+		classificationsMapper.setName("classifications");
+		return classificationsMapper;
+	}
+
+	private static Mapper zConstructOrderWiClassificationsMapper()
+	{
+		Mapper classificationsMapper = OrderWiFinder.zGetConstantJoin(9);
+		classificationsMapper.setName("order");
+		return classificationsMapper;
+	}
+
+	public static Mapper zGetOrderWiClassificationByIdReverseMapper(int classificationId)
+	{
+		return zConstructOrderWiClassificationByIdReverseMapper(classificationId);
+	}
+
+	public static Mapper zGetOrderWiClassificationByIdMapper(int classificationId)
+	{
+		return zConstructOrderWiClassificationByIdMapper(classificationId);
+	}
+
+	private static Mapper classificationByIdPureReverseMapper = null;
+	public static Mapper zGetOrderWiClassificationByIdPureReverseMapper()
+	{
+		if (classificationByIdPureReverseMapper == null)
+		{
+			classificationByIdPureReverseMapper = zConstructOrderWiClassificationByIdPureReverseMapper();
+		}
+
+		return classificationByIdPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderWiClassificationByIdPureReverseMapper()
+	{
+		Mapper classificationByIdMapper = OrderWiFinder.zGetConstantJoin(8);
+		classificationByIdMapper.setName("classificationById");
+		return classificationByIdMapper;
+	}
+
+	private static Mapper zConstructOrderWiClassificationByIdReverseMapper(int classificationId)
+	{
+		Mapper classificationByIdMapperInnerMapper = OrderWiFinder.zGetConstantJoin(8);
+		Mapper classificationByIdMapper = new FilteredMapper(classificationByIdMapperInnerMapper, null, OrderClassificationWiFinder.classificationId().eq(classificationId));
+		classificationByIdMapper.setName("classificationById");
+		return classificationByIdMapper;
+	}
+
+	private static Mapper zConstructOrderWiClassificationByIdMapper(int classificationId)
+	{
+		Mapper classificationByIdMapperInnerMapper = OrderWiFinder.zGetConstantJoin(9);
+		Mapper classificationByIdMapper = new FilteredMapper(classificationByIdMapperInnerMapper, OrderClassificationWiFinder.classificationId().eq(classificationId), null);
+		classificationByIdMapper.setName("classificationById_Reverse");
+		return classificationByIdMapper;
+	}
+
+	/** maps to ORDERS_WI.ORDER_ID **/
+	public static IntegerAttribute<OrderWi> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to ORDERS_WI.ORDER_DATE **/
+	public static TimestampAttribute<OrderWi> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to ORDERS_WI.USER_ID **/
+	public static IntegerAttribute<OrderWi> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to ORDERS_WI.DESCRIPTION **/
+	public static StringAttribute<OrderWi> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to ORDERS_WI."STATE" **/
+	public static StringAttribute<OrderWi> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to ORDERS_WI.TRACKING_ID **/
+	public static StringAttribute<OrderWi> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	public static OrderItemWiFinder.OrderItemWiCollectionFinderForRelatedClasses<OrderWi, OrderItemWiList, OrderWi> items()
+	{
+		return finder.items();
+	}
+
+	public static class OrderWiItemsFinderSubclass<ParentOwnerType> extends OrderItemWiFinder.OrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemWiList, OrderWi>
+	{
+		public OrderWiItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderWiItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((OrderWiImpl) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected OrderItemWiList plainValueOf(OrderWi _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected OrderItemWiList plainListValueOf(Object _obj)
+		{
+			return ((OrderWiList)_obj).getItems();
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<OrderWi, OrderItemList, OrderWi> itemsWithoutInterfaces()
+	{
+		return finder.itemsWithoutInterfaces();
+	}
+
+	public static class OrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, OrderWi>
+	{
+		public OrderWiItemsWithoutInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsWithoutInterfaces";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderWiItemsWithoutInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((OrderWiImpl) _obj).isItemsWithoutInterfacesModifiedSinceDetachment();
+		}
+
+		protected OrderItemList plainValueOf(OrderWi _obj)
+		{
+			return _obj.getItemsWithoutInterfaces();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderWiList)_obj).getItemsWithoutInterfaces();
+		}
+	}
+
+	public static OrderStatusWiFinder.OrderStatusWiSingleFinderForRelatedClasses<OrderWi, OrderStatusWi, OrderWi> orderStatus()
+	{
+		return finder.orderStatus();
+	}
+
+	public static class OrderWiOrderStatusFinderSubclass<ParentOwnerType> extends OrderStatusWiFinder.OrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, OrderStatusWi, OrderWi>
+	{
+		public OrderWiOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderWiOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((OrderWiImpl) _obj).isOrderStatusModifiedSinceDetachment();
+		}
+
+		protected OrderStatusWi plainValueOf(OrderWi _obj)
+		{
+			return _obj.getOrderStatus();
+		}
+
+		protected OrderStatusWiList plainListValueOf(Object _obj)
+		{
+			return ((OrderWiList)_obj).getOrderStatus();
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<OrderWi, OrderStatus, OrderWi> orderStatusWithoutInterfaces()
+	{
+		return finder.orderStatusWithoutInterfaces();
+	}
+
+	public static class OrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, OrderWi>
+	{
+		public OrderWiOrderStatusWithoutInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatusWithoutInterfaces";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderWiOrderStatusWithoutInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((OrderWiImpl) _obj).isOrderStatusWithoutInterfacesModifiedSinceDetachment();
+		}
+
+		protected OrderStatus plainValueOf(OrderWi _obj)
+		{
+			return _obj.getOrderStatusWithoutInterfaces();
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((OrderWiList)_obj).getOrderStatusWithoutInterfaces();
+		}
+	}
+
+	public static OrderItemWiFinder.OrderItemWiCollectionFinderForRelatedClasses<OrderWi, List, OrderWi> cheapItems(double price)
+	{
+		return finder.cheapItems(price);
+	}
+
+	public static class OrderWiCheapItemsFinderSubclass<ParentOwnerType> extends OrderItemWiFinder.OrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, List, OrderWi>
+	{
+		private double price;
+		public OrderWiCheapItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderWiCheapItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected List plainValueOf(OrderWi _obj)
+		{
+			return _obj.getCheapItems(price);
+		}
+
+		protected OrderItemWiList plainListValueOf(Object _obj)
+		{
+			return ((OrderWiList)_obj).getCheapItems(price);
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<OrderWi, List, OrderWi> cheapItemsWithoutInterfaces(double price)
+	{
+		return finder.cheapItemsWithoutInterfaces(price);
+	}
+
+	public static class OrderWiCheapItemsWithoutInterfacesFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, OrderWi>
+	{
+		private double price;
+		public OrderWiCheapItemsWithoutInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItemsWithoutInterfaces";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderWiCheapItemsWithoutInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected List plainValueOf(OrderWi _obj)
+		{
+			return _obj.getCheapItemsWithoutInterfaces(price);
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderWiList)_obj).getCheapItemsWithoutInterfaces(price);
+		}
+	}
+
+	public static OrderClassificationWiFinder.OrderClassificationWiCollectionFinderForRelatedClasses<OrderWi, OrderClassificationWiList, OrderWi> classifications()
+	{
+		return finder.classifications();
+	}
+
+	public static class OrderWiClassificationsFinderSubclass<ParentOwnerType> extends OrderClassificationWiFinder.OrderClassificationWiCollectionFinderForRelatedClasses<ParentOwnerType, OrderClassificationWiList, OrderWi>
+	{
+		public OrderWiClassificationsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "classifications";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderWiClassificationsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderClassificationWiList plainValueOf(OrderWi _obj)
+		{
+			return _obj.getClassifications();
+		}
+
+		protected OrderClassificationWiList plainListValueOf(Object _obj)
+		{
+			return ((OrderWiList)_obj).getClassifications();
+		}
+	}
+
+	public static OrderClassificationWiFinder.OrderClassificationWiSingleFinderForRelatedClasses<OrderWi, OrderClassificationWi, OrderWi> classificationById(int classificationId)
+	{
+		return finder.classificationById(classificationId);
+	}
+
+	public static class OrderWiClassificationByIdFinderSubclass<ParentOwnerType> extends OrderClassificationWiFinder.OrderClassificationWiSingleFinderForRelatedClasses<ParentOwnerType, OrderClassificationWi, OrderWi>
+	{
+		private int classificationId;
+		public OrderWiClassificationByIdFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int classificationId)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.classificationId = classificationId;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "classificationById";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderWiClassificationByIdFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.classificationId
+			);
+		}
+
+		protected OrderClassificationWi plainValueOf(OrderWi _obj)
+		{
+			return _obj.getClassificationById(classificationId);
+		}
+
+		protected OrderClassificationWiList plainListValueOf(Object _obj)
+		{
+			return ((OrderWiList)_obj).getClassificationByIds(classificationId);
+		}
+	}
+
+	public static Operation eq(OrderWi other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static OrderWiSingleFinder<OrderWi, Object, OrderWi> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.OrderWi");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
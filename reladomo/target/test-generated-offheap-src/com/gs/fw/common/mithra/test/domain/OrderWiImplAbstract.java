@@ -0,0 +1,1405 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderWiImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OrderWiImpl.class.getName());
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final RelationshipHashStrategy fororderStatusWithoutInterfaces = new OrderStatusWithoutInterfacesRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderWiData _castedSrcData = (OrderWiData) _srcData;
+			OrderStatusWiData _castedTargetData = (OrderStatusWiData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderWiData _castedSrcData = (OrderWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderStatusWithoutInterfacesRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderWiData _castedSrcData = (OrderWiData) _srcData;
+			OrderStatusData _castedTargetData = (OrderStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderWiData _castedSrcData = (OrderWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public OrderWiImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OrderWiImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (OrderWiImpl) super.getDetachedCopy();
+	}
+
+	public OrderWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		OrderWiImpl result = (OrderWiImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public OrderWiImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OrderWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public OrderWiImpl zFindOriginal()
+	{
+		OrderWiData data = (OrderWiData) this.currentData;
+		Operation op;
+		op = OrderWiFinder.orderId().eq(data.getOrderId());
+		return (OrderWiImpl) OrderWiFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		if(isItemsWithoutInterfacesModifiedSinceDetachment()) return true;
+		if(isOrderStatusModifiedSinceDetachment()) return true;
+		if(isOrderStatusWithoutInterfacesModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderWiData();
+	}
+
+	protected void zSetFromOrderWiData( OrderWiData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderWiData( OrderWiData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((OrderWiData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		OrderWiData data = (OrderWiData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(OrderWiFinder.description(), newValue, false, false );
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return ((OrderWiData) this.zSynchronizedGetData()).isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		OrderWiData data = (OrderWiData) this.zSynchronizedGetData();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderWiFinder.orderDate(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OrderWiData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OrderWiData data = (OrderWiData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(OrderWiFinder.orderId(), newValue, true, false ,false);
+		if (d == null) return;
+		OrderWiData data = (OrderWiData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			OrderItemWiListImpl items =
+			(OrderItemWiListImpl ) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+
+			OrderItemList itemsWithoutInterfaces =
+			(OrderItemList ) data.getItemsWithoutInterfaces();
+			if (itemsWithoutInterfaces != null)
+			{
+				itemsWithoutInterfaces.setOrderId(newValue);
+			}
+
+			OrderStatusWiImpl orderStatus =
+			(OrderStatusWiImpl ) data.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.setOrderId(newValue);
+			}
+
+			OrderStatus orderStatusWithoutInterfaces =
+			(OrderStatus ) data.getOrderStatusWithoutInterfaces();
+			if (orderStatusWithoutInterfaces != null)
+			{
+				orderStatusWithoutInterfaces.setOrderId(newValue);
+			}
+		}
+	}
+
+	public boolean isStateNull()
+	{
+		return ((OrderWiData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		OrderWiData data = (OrderWiData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OrderWiFinder.state(), newValue, false, false );
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return ((OrderWiData) this.zSynchronizedGetData()).isTrackingIdNull();
+	}
+
+	public String getTrackingId()
+	{
+		OrderWiData data = (OrderWiData) this.zSynchronizedGetData();
+		return data.getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		zSetString(OrderWiFinder.trackingId(), newValue, false, false );
+	}
+
+	public boolean isUserIdNull()
+	{
+		return ((OrderWiData) this.zSynchronizedGetData()).isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		OrderWiData data = (OrderWiData) this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderWiFinder.userId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderWiFinder.userId(), false);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(OrderWiFinder.userId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderWiData _newData = (OrderWiData) _data;
+		{
+			OrderItemWiListImpl items =
+			(OrderItemWiListImpl) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+
+		{
+			OrderItemList itemsWithoutInterfaces =
+			(OrderItemList) _newData.getItemsWithoutInterfaces();
+			if (itemsWithoutInterfaces != null)
+			{
+				itemsWithoutInterfaces.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			OrderStatusWiImpl orderStatus =
+			(OrderStatusWiImpl) this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeDelete();
+			}
+		}
+		else
+		{
+			OrderStatusWiImpl orderStatus =
+			(OrderStatusWiImpl) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				OrderStatusWiImpl _existing =
+				(OrderStatusWiImpl) this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+
+		if (_newData.getOrderStatusWithoutInterfaces() instanceof NulledRelation)
+		{
+			OrderStatus orderStatusWithoutInterfaces =
+			this.getOrderStatusWithoutInterfaces();
+			if (orderStatusWithoutInterfaces != null)
+			{
+				orderStatusWithoutInterfaces.cascadeDelete();
+			}
+		}
+		else
+		{
+			OrderStatus orderStatusWithoutInterfaces =
+			(OrderStatus) _newData.getOrderStatusWithoutInterfaces();
+			if (orderStatusWithoutInterfaces != null)
+			{
+				OrderStatus _existing =
+				this.getOrderStatusWithoutInterfaces();
+				if (_existing == null)
+				{
+					orderStatusWithoutInterfaces.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatusWithoutInterfaces.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatusWithoutInterfaces.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderWiData _newData = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((OrderItemWiListImpl)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getItemsWithoutInterfaces() != null && !(_newData.getItemsWithoutInterfaces() instanceof NulledRelation))
+		{
+			((OrderItemList)_newData.getItemsWithoutInterfaces()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((OrderStatusWiImpl)_newData.getOrderStatus()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatusWithoutInterfaces() != null && !(_newData.getOrderStatusWithoutInterfaces() instanceof NulledRelation))
+		{
+			((OrderStatus)_newData.getOrderStatusWithoutInterfaces()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWiData _newData = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((OrderItemWiListImpl)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getItemsWithoutInterfaces() != null && !(_newData.getItemsWithoutInterfaces() instanceof NulledRelation))
+		{
+			((OrderItemList)_newData.getItemsWithoutInterfaces()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((OrderStatusWiImpl)_newData.getOrderStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatusWithoutInterfaces() != null && !(_newData.getOrderStatusWithoutInterfaces() instanceof NulledRelation))
+		{
+			((OrderStatus)_newData.getOrderStatusWithoutInterfaces()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItemWi.orderId = this.orderId</pre>
+	* @see OrderItemWi#getOrder() reverse relationship OrderItemWi.getOrder()
+	* @return items
+	*/
+	public OrderItemWiList getItems()
+	{
+		OrderItemWiListImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = OrderItemWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (OrderItemWiListImpl) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderItemWiFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderItemWiListImpl(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemWiListImpl) _data.getItems();
+			if (_result == null)
+			{
+				_result = new OrderItemWiListImpl();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemWiListImpl(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(OrderItemWiList items)
+	{
+		OrderItemWiListImpl _items = (OrderItemWiListImpl) items;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(OrderItemWiFinder.orderId().eq(_data.getOrderId()),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			OrderItemWiListImpl itemsToDelete = new OrderItemWiListImpl();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				OrderItemWiImpl item = _items.getOrderItemWiAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		OrderItemWiListImpl items =
+		(OrderItemWiListImpl) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId</pre>
+	* @see OrderItem#getOrderWithInterface() reverse relationship OrderItem.getOrderWithInterface()
+	* @return items without interfaces
+	*/
+	public OrderItemList getItemsWithoutInterfaces()
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (OrderItemList) _data.getItemsWithoutInterfaces();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsWithoutInterfacesAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setItemsWithoutInterfaces(_result);
+				if (_result != null) _result.zSetParentContainerorderWithInterface(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemList) _data.getItemsWithoutInterfaces();
+			if (_result == null)
+			{
+				_result = new OrderItemList();
+				_result.zSetAddHandler(new ItemsWithoutInterfacesAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setItemsWithoutInterfaces(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsWithoutInterfacesAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItemsWithoutInterfaces(OrderItemList itemsWithoutInterfaces)
+	{
+		OrderItemList _itemsWithoutInterfaces = (OrderItemList) itemsWithoutInterfaces;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _itemsWithoutInterfaces != null)
+			{
+				_itemsWithoutInterfaces.zMakeDetached(OrderItemFinder.orderId().eq(_data.getOrderId()),
+					_data.getItemsWithoutInterfaces());
+			}
+
+			_data.setItemsWithoutInterfaces(_itemsWithoutInterfaces);
+			if (_itemsWithoutInterfaces != null)
+			{
+				_itemsWithoutInterfaces.setOrderId(_data.getOrderId());
+				_itemsWithoutInterfaces.zSetParentContainerorderWithInterface(this);
+				_itemsWithoutInterfaces.zSetAddHandler(new ItemsWithoutInterfacesAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_itemsWithoutInterfaces.zSetAddHandler(new ItemsWithoutInterfacesAddHandlerPersisted());
+			OrderItemList itemsWithoutInterfacesToDelete = new OrderItemList();
+			itemsWithoutInterfacesToDelete.addAll(this.getItemsWithoutInterfaces());
+			for(int i=0;i < _itemsWithoutInterfaces.size(); i++)
+			{
+				OrderItem item = _itemsWithoutInterfaces.getOrderItemAt(i);
+				if (!itemsWithoutInterfacesToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsWithoutInterfacesToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isItemsWithoutInterfacesModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		OrderItemList itemsWithoutInterfaces =
+		(OrderItemList) _data.getItemsWithoutInterfaces();
+		if( itemsWithoutInterfaces != null)
+		{
+			return itemsWithoutInterfaces.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatusWi.orderId = this.orderId</pre>
+	* @see OrderStatusWi#getOrder() reverse relationship OrderStatusWi.getOrder()
+	* @return The order status
+	*/
+	public OrderStatusWi getOrderStatus()
+	{
+		OrderStatusWiImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderStatusWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatusWiImpl) _related;
+				if (_related == null)
+				{
+					_op = OrderStatusWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderStatusWiImpl) _data.getOrderStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderStatusWiFinder.orderId().eq(_data.getOrderId());
+					_result = OrderStatusWiFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderStatusWiImpl) _data.getOrderStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = OrderStatusWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(OrderStatusWi orderStatus)
+	{
+		OrderStatusWiImpl _orderStatus = (OrderStatusWiImpl) orderStatus;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus();
+			_data.setOrderStatus(_orderStatus);
+			if (_orderStatus != null)
+			{
+				_orderStatus.setOrderId(_data.getOrderId());
+				_orderStatus.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			OrderStatusWiImpl _existing = (OrderStatusWiImpl) this.getOrderStatus();
+			if (_orderStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_orderStatus != null)
+				{
+					_orderStatus.setOrderId(_data.getOrderId());
+					_orderStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isOrderStatusModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus() instanceof NulledRelation)
+		{
+			OrderStatusWiImpl _existing = (OrderStatusWiImpl) this.getOriginalPersistentObject().getOrderStatus();
+			return _existing != null;
+		}
+
+		OrderStatusWiImpl orderStatus =
+		(OrderStatusWiImpl) _data.getOrderStatus();
+		if( orderStatus != null)
+		{
+			return orderStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatus.orderId = this.orderId</pre>
+	* @see OrderStatus#getOrderWithInterface() reverse relationship OrderStatus.getOrderWithInterface()
+	* @return The order status without interfaces
+	*/
+	public OrderStatus getOrderStatusWithoutInterfaces()
+	{
+		OrderStatus _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatusWithoutInterfaces, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatus) _related;
+				if (_related == null)
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatusWithoutInterfaces() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderStatus) _data.getOrderStatusWithoutInterfaces();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderStatusFinder.orderId().eq(_data.getOrderId());
+					_result = OrderStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatusWithoutInterfaces(_result);
+				if (_result != null) _result.zSetParentContainerorderWithInterface(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderStatus) _data.getOrderStatusWithoutInterfaces();
+		}
+
+		if (_op != null)
+		{
+			_result = OrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatusWithoutInterfaces(OrderStatus orderStatusWithoutInterfaces)
+	{
+		OrderStatus _orderStatusWithoutInterfaces = (OrderStatus) orderStatusWithoutInterfaces;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatusWithoutInterfaces();
+			_data.setOrderStatusWithoutInterfaces(_orderStatusWithoutInterfaces);
+			if (_orderStatusWithoutInterfaces != null)
+			{
+				_orderStatusWithoutInterfaces.setOrderId(_data.getOrderId());
+				_orderStatusWithoutInterfaces.zSetParentContainerorderWithInterface(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatusWithoutInterfaces(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			OrderStatus _existing = this.getOrderStatusWithoutInterfaces();
+			if (_orderStatusWithoutInterfaces != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_orderStatusWithoutInterfaces != null)
+				{
+					_orderStatusWithoutInterfaces.setOrderId(_data.getOrderId());
+					_orderStatusWithoutInterfaces.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isOrderStatusWithoutInterfacesModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatusWithoutInterfaces() instanceof NulledRelation)
+		{
+			OrderStatus _existing = this.getOriginalPersistentObject().getOrderStatusWithoutInterfaces();
+			return _existing != null;
+		}
+
+		OrderStatus orderStatusWithoutInterfaces =
+		(OrderStatus) _data.getOrderStatusWithoutInterfaces();
+		if( orderStatusWithoutInterfaces != null)
+		{
+			return orderStatusWithoutInterfaces.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItemWi.orderId = this.orderId and OrderItemWi.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public List getCheapItems(double price)
+	{
+		OrderItemWiListImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = OrderItemWiFinder.orderId().eq(_data.getOrderId()).and(OrderItemWiFinder.originalPrice().lessThan(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemWiListImpl(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.originalPrice < {price}</pre>
+	* @return cheap items without interfaces
+	*/
+	public List getCheapItemsWithoutInterfaces(double price)
+	{
+		OrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = OrderItemFinder.orderId().eq(_data.getOrderId()).and(OrderItemFinder.originalPrice().lessThan(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderClassificationWi.orderId = this.orderId</pre>
+	* @see OrderClassificationWi#getOrder() reverse relationship OrderClassificationWi.getOrder()
+	* @return classifications
+	*/
+	public OrderClassificationWiList getClassifications()
+	{
+		OrderClassificationWiListImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = OrderClassificationWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = OrderClassificationWiFinder.orderId().eq(_data.getOrderId());
+					_result = new OrderClassificationWiListImpl(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderClassificationWiListImpl) _data.getClassifications();
+			if (_result == null)
+			{
+				{
+					_op = OrderClassificationWiFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new OrderClassificationWiListImpl(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setClassifications(OrderClassificationWiList classifications)
+	{
+		OrderClassificationWiListImpl _classifications = (OrderClassificationWiListImpl) classifications;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setClassifications(_classifications);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderClassificationWi.orderId = this.orderId and
+	OrderClassificationWi.classificationId = {classificationId}</pre>
+	* @return The classification by id
+	*/
+	public OrderClassificationWi getClassificationById(int classificationId)
+	{
+		OrderClassificationWiImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				_result = (OrderClassificationWiImpl) OrderClassificationWiFinder.findByPrimaryKey(_data.getOrderId(),
+					classificationId);
+			}
+		}
+
+		return _result;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+		OrderItemWiListImpl items =
+		(OrderItemWiListImpl) _data.getItems();
+		OrderItemList itemsWithoutInterfaces =
+		(OrderItemList) _data.getItemsWithoutInterfaces();
+		OrderStatusWiImpl orderStatus =
+		(OrderStatusWiImpl) _data.getOrderStatus();
+		OrderStatus orderStatusWithoutInterfaces =
+		(OrderStatus) _data.getOrderStatusWithoutInterfaces();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+
+		if (itemsWithoutInterfaces != null)
+		{
+			itemsWithoutInterfaces.cascadeInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.cascadeInsert();
+		}
+
+		if (orderStatusWithoutInterfaces != null)
+		{
+			orderStatusWithoutInterfaces.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		OrderWiFinder.OrderWiRelatedFinder parentFinder = (OrderWiFinder.OrderWiRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWiData _newData = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+		{
+			OrderItemWiListImpl items =
+			(OrderItemWiListImpl) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		{
+			OrderItemList itemsWithoutInterfaces =
+			(OrderItemList) _newData.getItemsWithoutInterfaces();
+			RelatedFinder dependentFinder = parentFinder.itemsWithoutInterfaces();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, itemsWithoutInterfaces != null, navigationStats);
+			if (itemsWithoutInterfaces != null)
+			{
+				itemsWithoutInterfaces.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			OrderStatusWiImpl orderStatus =
+			(OrderStatusWiImpl) _newData.getOrderStatus();
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus != null, navigationStats);
+			if (orderStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatusWithoutInterfaces() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatusWithoutInterfaces();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			OrderStatus orderStatusWithoutInterfaces =
+			(OrderStatus) _newData.getOrderStatusWithoutInterfaces();
+			RelatedFinder dependentFinder = parentFinder.orderStatusWithoutInterfaces();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatusWithoutInterfaces != null, navigationStats);
+			if (orderStatusWithoutInterfaces != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatusWithoutInterfaces, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public OrderWiImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWiData _data = (OrderWiData) _behavior.getCurrentDataForWrite(this);
+		OrderItemWiListImpl items =
+		(OrderItemWiListImpl) _data.getItems();
+		OrderItemList itemsWithoutInterfaces =
+		(OrderItemList) _data.getItemsWithoutInterfaces();
+		OrderStatusWiImpl orderStatus =
+		(OrderStatusWiImpl) _data.getOrderStatus();
+		OrderStatus orderStatusWithoutInterfaces =
+		(OrderStatus) _data.getOrderStatusWithoutInterfaces();
+		OrderWiImpl original = (OrderWiImpl) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		if (itemsWithoutInterfaces != null)
+		{
+			itemsWithoutInterfaces.zCascadeCopyThenInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.zCascadeCopyThenInsert();
+		}
+
+		if (orderStatusWithoutInterfaces != null)
+		{
+			orderStatusWithoutInterfaces.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		((OrderItemWiListImpl)
+		this.getItems()).cascadeDeleteAll();
+		this.getItemsWithoutInterfaces().cascadeDeleteAll();
+		{
+			OrderStatusWiImpl related = (OrderStatusWiImpl) this.getOrderStatus();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		{
+			OrderStatus related = this.getOrderStatusWithoutInterfaces();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderWiFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderWiFinder.getMithraObjectPortal();
+	}
+
+	public OrderWiImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, OrderWiFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, OrderWiFinder.orderDate(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderWiFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderWiFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderWiFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderWiFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderWiImplAbstract result = (OrderWiImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItemWiImpl item = (OrderItemWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(OrderWiImplAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItemWiImpl item = (OrderItemWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class ItemsWithoutInterfacesAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItem item = (OrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorderWithInterface(OrderWiImplAbstract.this);
+		}
+	}
+
+	protected class ItemsWithoutInterfacesAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItem item = (OrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatusWiImpl item = (OrderStatusWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(OrderWiImplAbstract.this);
+		}
+	}
+
+	protected class OrderStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatusWiImpl item = (OrderStatusWiImpl) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatusWithoutInterfacesAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatus item = (OrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorderWithInterface(OrderWiImplAbstract.this);
+		}
+	}
+
+	protected class OrderStatusWithoutInterfacesAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderStatus item = (OrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderWiListAbstract extends List<OrderWi>
+{
+	public OrderItemWiList getItems();
+	public OrderItemList getItemsWithoutInterfaces();
+	public OrderStatusWiList getOrderStatus();
+	public OrderStatusList getOrderStatusWithoutInterfaces();
+	public OrderItemWiList getCheapItems(double price);
+	public OrderItemList getCheapItemsWithoutInterfaces(double price);
+	public OrderClassificationWiList getClassifications();
+	public OrderClassificationWiList getClassificationByIds(int classificationId);
+	public void setDescription(String newValue);
+	public void setOrderDate(Timestamp newValue);
+	public void setOrderId(int newValue);
+	public void setState(String newValue);
+	public void setTrackingId(String newValue);
+	public void setUserId(int newValue);
+}
@@ -0,0 +1,254 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderWiListImplAbstract extends DelegatingList<OrderWi> implements MithraTransactionalList<OrderWi>
+{
+	public OrderWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderWi[] elements()
+	{
+		OrderWi[] result = new OrderWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderWiListImpl intersection(OrderWiListImpl another)
+	{
+		return (OrderWiListImpl)super.intersection(another);
+	}
+
+	public OrderWiImpl getOrderWiAt(int index)
+	{
+		return (OrderWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItemWi.orderId = this.orderId</pre>
+	* @see OrderItemWi#getOrder() reverse relationship OrderItemWi.getOrder()
+	* @return items
+	*/
+	public OrderItemWiList getItems()
+	{
+		return (OrderItemWiList) this.zGetDelegated().resolveRelationship(this, OrderWiFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId</pre>
+	* @see OrderItem#getOrderWithInterface() reverse relationship OrderItem.getOrderWithInterface()
+	* @return items without interfaces
+	*/
+	public OrderItemList getItemsWithoutInterfaces()
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderWiFinder.itemsWithoutInterfaces());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatusWi.orderId = this.orderId</pre>
+	* @see OrderStatusWi#getOrder() reverse relationship OrderStatusWi.getOrder()
+	* @return The order status
+	*/
+	public OrderStatusWiList getOrderStatus()
+	{
+		return (OrderStatusWiList) this.zGetDelegated().resolveRelationship(this, OrderWiFinder.orderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatus.orderId = this.orderId</pre>
+	* @see OrderStatus#getOrderWithInterface() reverse relationship OrderStatus.getOrderWithInterface()
+	* @return The order status without interfaces
+	*/
+	public OrderStatusList getOrderStatusWithoutInterfaces()
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, OrderWiFinder.orderStatusWithoutInterfaces());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItemWi.orderId = this.orderId and OrderItemWi.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public OrderItemWiList getCheapItems(double price)
+	{
+		return (OrderItemWiList) this.zGetDelegated().resolveRelationship(this, OrderWiFinder.cheapItems(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId and OrderItem.originalPrice < {price}</pre>
+	* @return cheap items without interfaces
+	*/
+	public OrderItemList getCheapItemsWithoutInterfaces(double price)
+	{
+		return (OrderItemList) this.zGetDelegated().resolveRelationship(this, OrderWiFinder.cheapItemsWithoutInterfaces(price));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderClassificationWi.orderId = this.orderId</pre>
+	* @see OrderClassificationWi#getOrder() reverse relationship OrderClassificationWi.getOrder()
+	* @return classifications
+	*/
+	public OrderClassificationWiList getClassifications()
+	{
+		return (OrderClassificationWiList) this.zGetDelegated().resolveRelationship(this, OrderWiFinder.classifications());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderClassificationWi.orderId = this.orderId and
+	OrderClassificationWi.classificationId = {classificationId}</pre>
+	* @return The classification by id
+	*/
+	public OrderClassificationWiList getClassificationByIds(int classificationId)
+	{
+		return (OrderClassificationWiList) this.zGetDelegated().resolveRelationship(this, OrderWiFinder.classificationById(classificationId));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderWiFinder.getMithraObjectPortal();
+	}
+
+	public OrderWiListImpl getNonPersistentCopy()
+	{
+		OrderWiListImpl result = new OrderWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderWiListImpl asAdhoc()
+	{
+		return (OrderWiListImpl) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<OrderWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OrderWiListImpl merge(MithraTransactionalList<OrderWi> incoming, TopLevelMergeOptions<OrderWi> mergeOptions)
+	{
+		return (OrderWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderWiListImpl getDetachedCopy()
+	{
+		OrderWiListImpl result = new OrderWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderWiFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderWiFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderWiFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OrderWiFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OrderWiFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(OrderWiFinder.trackingId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(OrderWiFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getItems()).cascadeDeleteAll();
+		((DelegatingList)this.getItemsWithoutInterfaces()).cascadeDeleteAll();
+		((DelegatingList)this.getOrderStatus()).cascadeDeleteAll();
+		((DelegatingList)this.getOrderStatusWithoutInterfaces()).cascadeDeleteAll();
+	}
+}
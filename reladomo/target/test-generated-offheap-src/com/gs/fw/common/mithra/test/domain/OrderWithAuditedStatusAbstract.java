@@ -0,0 +1,609 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OrderWithAuditedStatusAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+implements
+AuditedOrderable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OrderWithAuditedStatus.class.getName());
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedOrderStatusWithNonDatedOrderFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			OrderWithAuditedStatusData _castedSrcData = (OrderWithAuditedStatusData) _srcData;
+			AuditedOrderStatusWithNonDatedOrderData _castedTargetData = (AuditedOrderStatusWithNonDatedOrderData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			OrderWithAuditedStatusData _castedSrcData = (OrderWithAuditedStatusData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public OrderWithAuditedStatusAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OrderWithAuditedStatus getDetachedCopy() throws MithraBusinessException
+	{
+		return (OrderWithAuditedStatus) super.getDetachedCopy();
+	}
+
+	public OrderWithAuditedStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		OrderWithAuditedStatus result = (OrderWithAuditedStatus) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public OrderWithAuditedStatus copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OrderWithAuditedStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public OrderWithAuditedStatus zFindOriginal()
+	{
+		OrderWithAuditedStatusData data = (OrderWithAuditedStatusData) this.currentData;
+		Operation op;
+		op = OrderWithAuditedStatusFinder.orderId().eq(data.getOrderId());
+		return OrderWithAuditedStatusFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isOrderStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OrderWithAuditedStatusData();
+	}
+
+	protected void zSetFromOrderWithAuditedStatusData( OrderWithAuditedStatusData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOrderWithAuditedStatusData( OrderWithAuditedStatusData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((OrderWithAuditedStatusData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		OrderWithAuditedStatusData data = (OrderWithAuditedStatusData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(OrderWithAuditedStatusFinder.description(), newValue, false, false );
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return ((OrderWithAuditedStatusData) this.zSynchronizedGetData()).isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		OrderWithAuditedStatusData data = (OrderWithAuditedStatusData) this.zSynchronizedGetData();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderWithAuditedStatusFinder.orderDate(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OrderWithAuditedStatusData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OrderWithAuditedStatusData data = (OrderWithAuditedStatusData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(OrderWithAuditedStatusFinder.orderId(), newValue, true, false ,false);
+		if (d == null) return;
+		OrderWithAuditedStatusData data = (OrderWithAuditedStatusData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			AuditedOrderStatusWithNonDatedOrder orderStatus =
+			(AuditedOrderStatusWithNonDatedOrder ) data.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.setOrderId(newValue);
+			}
+		}
+	}
+
+	public boolean isStateNull()
+	{
+		return ((OrderWithAuditedStatusData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		OrderWithAuditedStatusData data = (OrderWithAuditedStatusData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OrderWithAuditedStatusFinder.state(), newValue, false, false );
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return ((OrderWithAuditedStatusData) this.zSynchronizedGetData()).isTrackingIdNull();
+	}
+
+	public String getTrackingId()
+	{
+		OrderWithAuditedStatusData data = (OrderWithAuditedStatusData) this.zSynchronizedGetData();
+		return data.getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		zSetString(OrderWithAuditedStatusFinder.trackingId(), newValue, false, false );
+	}
+
+	public boolean isUserIdNull()
+	{
+		return ((OrderWithAuditedStatusData) this.zSynchronizedGetData()).isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		OrderWithAuditedStatusData data = (OrderWithAuditedStatusData) this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderWithAuditedStatusFinder.userId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OrderWithAuditedStatusFinder.userId(), false);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(OrderWithAuditedStatusFinder.userId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OrderWithAuditedStatusData _newData = (OrderWithAuditedStatusData) _data;
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			AuditedOrderStatusWithNonDatedOrder _detached =(AuditedOrderStatusWithNonDatedOrder) ((NulledRelation)_newData.getOrderStatus()).getOriginal();
+			if (_detached != null)
+			{
+				_detached.zCascadeUpdateInPlaceBeforeTerminate();
+			}
+
+			AuditedOrderStatusWithNonDatedOrder orderStatus =
+			this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			AuditedOrderStatusWithNonDatedOrder orderStatus =
+			(AuditedOrderStatusWithNonDatedOrder) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				AuditedOrderStatusWithNonDatedOrder _existing =
+				this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OrderWithAuditedStatusData _newData = (OrderWithAuditedStatusData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((AuditedOrderStatusWithNonDatedOrder)_newData.getOrderStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWithAuditedStatusData _newData = (OrderWithAuditedStatusData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((AuditedOrderStatusWithNonDatedOrder)_newData.getOrderStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderStatusWithNonDatedOrder.orderId = this.orderId</pre>
+	* @see AuditedOrderStatusWithNonDatedOrder#getOrder() reverse relationship AuditedOrderStatusWithNonDatedOrder.getOrder()
+	* @return The order status
+	*/
+	public AuditedOrderStatusWithNonDatedOrder getOrderStatus()
+	{
+		AuditedOrderStatusWithNonDatedOrder _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWithAuditedStatusData _data = (OrderWithAuditedStatusData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = AuditedOrderStatusWithNonDatedOrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus,com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedOrderStatusWithNonDatedOrder) _related;
+				if (_related == null)
+				{
+					_op = AuditedOrderStatusWithNonDatedOrderFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderStatusWithNonDatedOrderFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (AuditedOrderStatusWithNonDatedOrder) _data.getOrderStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = AuditedOrderStatusWithNonDatedOrderFinder.orderId().eq(_data.getOrderId()).and(AuditedOrderStatusWithNonDatedOrderFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()));
+					_result = AuditedOrderStatusWithNonDatedOrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (OrderWithAuditedStatusData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderStatusWithNonDatedOrder) _data.getOrderStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedOrderStatusWithNonDatedOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(AuditedOrderStatusWithNonDatedOrder orderStatus)
+	{
+		AuditedOrderStatusWithNonDatedOrder _orderStatus = (AuditedOrderStatusWithNonDatedOrder) orderStatus;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWithAuditedStatusData _data = (OrderWithAuditedStatusData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus();
+			_data.setOrderStatus(_orderStatus);
+			if (_orderStatus != null)
+			{
+				_orderStatus.setOrderId(_data.getOrderId());
+				_orderStatus.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			AuditedOrderStatusWithNonDatedOrder _existing = this.getOrderStatus();
+			if (_orderStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_orderStatus != null)
+				{
+					_orderStatus.setOrderId(_data.getOrderId());
+					_orderStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isOrderStatusModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		OrderWithAuditedStatusData _data = (OrderWithAuditedStatusData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus() instanceof NulledRelation)
+		{
+			AuditedOrderStatusWithNonDatedOrder _existing = this.getOriginalPersistentObject().getOrderStatus();
+			return _existing != null;
+		}
+
+		AuditedOrderStatusWithNonDatedOrder orderStatus =
+		(AuditedOrderStatusWithNonDatedOrder) _data.getOrderStatus();
+		if( orderStatus != null)
+		{
+			return orderStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWithAuditedStatusData _data = (OrderWithAuditedStatusData) _behavior.getCurrentDataForWrite(this);
+		AuditedOrderStatusWithNonDatedOrder orderStatus =
+		(AuditedOrderStatusWithNonDatedOrder) _data.getOrderStatus();
+		_behavior.insert(this);
+		if (orderStatus != null)
+		{
+			orderStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		OrderWithAuditedStatusFinder.OrderWithAuditedStatusRelatedFinder parentFinder = (OrderWithAuditedStatusFinder.OrderWithAuditedStatusRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWithAuditedStatusData _newData = (OrderWithAuditedStatusData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			AuditedOrderStatusWithNonDatedOrder orderStatus =
+			(AuditedOrderStatusWithNonDatedOrder) _newData.getOrderStatus();
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus != null, navigationStats);
+			if (orderStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public OrderWithAuditedStatus zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OrderWithAuditedStatusData _data = (OrderWithAuditedStatusData) _behavior.getCurrentDataForWrite(this);
+		AuditedOrderStatusWithNonDatedOrder orderStatus =
+		(AuditedOrderStatusWithNonDatedOrder) _data.getOrderStatus();
+		OrderWithAuditedStatus original = (OrderWithAuditedStatus) _behavior.copyThenInsert(this);
+		if (orderStatus != null)
+		{
+			orderStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		{
+			AuditedOrderStatusWithNonDatedOrder related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OrderWithAuditedStatusFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OrderWithAuditedStatusFinder.getMithraObjectPortal();
+	}
+
+	public OrderWithAuditedStatus getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, OrderWithAuditedStatusFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, OrderWithAuditedStatusFinder.orderDate(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderWithAuditedStatusFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, OrderWithAuditedStatusFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OrderWithAuditedStatusFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OrderWithAuditedStatusFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OrderWithAuditedStatusAbstract result = (OrderWithAuditedStatusAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class OrderStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderStatusWithNonDatedOrder item = (AuditedOrderStatusWithNonDatedOrder) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(OrderWithAuditedStatusAbstract.this);
+		}
+	}
+
+	protected class OrderStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderStatusWithNonDatedOrder item = (AuditedOrderStatusWithNonDatedOrder) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderWithMissingColumnListAbstract extends DelegatingList<OrderWithMissingColumn> implements MithraTransactionalList<OrderWithMissingColumn>
+{
+	public OrderWithMissingColumnListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderWithMissingColumnListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderWithMissingColumnListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderWithMissingColumnListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderWithMissingColumn[] elements()
+	{
+		OrderWithMissingColumn[] result = new OrderWithMissingColumn[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderWithMissingColumnList intersection(OrderWithMissingColumnList another)
+	{
+		return (OrderWithMissingColumnList)super.intersection(another);
+	}
+
+	public OrderWithMissingColumn getOrderWithMissingColumnAt(int index)
+	{
+		return (OrderWithMissingColumn)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderWithMissingColumnFinder.getMithraObjectPortal();
+	}
+
+	public OrderWithMissingColumnList getNonPersistentCopy()
+	{
+		OrderWithMissingColumnList result = new OrderWithMissingColumnList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderWithMissingColumnList asAdhoc()
+	{
+		return (OrderWithMissingColumnList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<OrderWithMissingColumn> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public OrderWithMissingColumnList merge(MithraTransactionalList<OrderWithMissingColumn> incoming, TopLevelMergeOptions<OrderWithMissingColumn> mergeOptions)
+	{
+		return (OrderWithMissingColumnList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderWithMissingColumnList getDetachedCopy()
+	{
+		OrderWithMissingColumnList result = new OrderWithMissingColumnList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderWithMissingColumnFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderWithMissingColumnFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderWithMissingColumnFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OrderWithMissingColumnFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OrderWithMissingColumnFinder.state(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(OrderWithMissingColumnFinder.userId());
+	}
+}
@@ -0,0 +1,609 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ParaDeskData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private boolean activeBoolean;
+	private BigDecimal bigDouble;
+	private Date closedDate;
+	private long connectionLong;
+	private Timestamp createTimestamp;
+	private String deskIdString;
+	private byte locationByte;
+	private float maxFloat;
+	private short minShort;
+	private double sizeDouble;
+	private char statusChar;
+	private int tagInt;
+	public boolean isBigDoubleNull()
+	{
+		return this.getBigDouble() == null;
+	}
+
+	public boolean isClosedDateNull()
+	{
+		return this.getClosedDate() == null;
+	}
+
+	public boolean isCreateTimestampNull()
+	{
+		return this.getCreateTimestamp() == null;
+	}
+
+	public boolean isDeskIdStringNull()
+	{
+		return this.getDeskIdString() == null;
+	}
+
+	public boolean isActiveBooleanNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isSizeDoubleNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isConnectionLongNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isTagIntNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isStatusCharNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isLocationByteNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isMaxFloatNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isMinShortNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.activeBoolean);
+		out.writeObject(this.bigDouble);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.closedDate);
+		out.writeLong(this.connectionLong);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.createTimestamp);
+		out.writeObject(this.deskIdString);
+		out.writeByte(this.locationByte);
+		out.writeFloat(this.maxFloat);
+		out.writeShort(this.minShort);
+		out.writeDouble(this.sizeDouble);
+		out.writeChar(this.statusChar);
+		out.writeInt(this.tagInt);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public boolean isActiveBoolean()
+	{
+		return this.activeBoolean;
+	}
+
+	public void setActiveBoolean(boolean value)
+	{
+		this.activeBoolean = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public BigDecimal getBigDouble()
+	{
+		return this.bigDouble;
+	}
+
+	public void setBigDouble(BigDecimal value)
+	{
+		this.bigDouble = value;
+	}
+
+	public void setBigDoubleNull()
+	{
+		this.setBigDouble(null);
+	}
+
+	public Date getClosedDate()
+	{
+		return this.closedDate;
+	}
+
+	public void setClosedDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.closedDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.closedDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setClosedDateNull()
+	{
+		this.setClosedDate(null);
+	}
+
+	public long getConnectionLong()
+	{
+		return this.connectionLong;
+	}
+
+	public void setConnectionLong(long value)
+	{
+		this.connectionLong = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public Timestamp getCreateTimestamp()
+	{
+		return this.createTimestamp;
+	}
+
+	public long zGetCreateTimestampAsLong()
+	{
+		if (createTimestamp == null) return TimestampPool.OFF_HEAP_NULL;
+		return createTimestamp.getTime();
+	}
+
+	public void setCreateTimestamp(Timestamp value)
+	{
+		this.createTimestamp = TimestampPool.getInstance().getOrAddToCache(value, ParaDeskFinder.isFullCache(), ParaDeskFinder.isOffHeap());
+	}
+
+	public void setCreateTimestampNull()
+	{
+		this.setCreateTimestamp(null);
+	}
+
+	public String getDeskIdString()
+	{
+		return this.deskIdString;
+	}
+
+	public int zGetDeskIdStringAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskIdString);
+	}
+
+	public void setDeskIdString(String value)
+	{
+		this.deskIdString = StringPool.getInstance().getOrAddToCache(value, ParaDeskFinder.isFullCache());
+	}
+
+	public void setDeskIdStringNull()
+	{
+		this.setDeskIdString(null);
+	}
+
+	public byte getLocationByte()
+	{
+		return this.locationByte;
+	}
+
+	public void setLocationByte(byte value)
+	{
+		this.locationByte = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public float getMaxFloat()
+	{
+		return this.maxFloat;
+	}
+
+	public void setMaxFloat(float value)
+	{
+		this.maxFloat = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public short getMinShort()
+	{
+		return this.minShort;
+	}
+
+	public void setMinShort(short value)
+	{
+		this.minShort = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	public double getSizeDouble()
+	{
+		return this.sizeDouble;
+	}
+
+	public void setSizeDouble(double value)
+	{
+		this.sizeDouble = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public char getStatusChar()
+	{
+		return this.statusChar;
+	}
+
+	public void setStatusChar(char value)
+	{
+		this.statusChar = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public int getTagInt()
+	{
+		return this.tagInt;
+	}
+
+	public void setTagInt(int value)
+	{
+		this.tagInt = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public void setActiveBooleanNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setSizeDoubleNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setConnectionLongNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setTagIntNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setStatusCharNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setLocationByteNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setMaxFloatNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+	}
+
+	public void setMinShortNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 7);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ParaDeskData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.activeBoolean = this.activeBoolean;
+		copy.bigDouble = this.bigDouble;
+		copy.closedDate = this.closedDate;
+		copy.connectionLong = this.connectionLong;
+		copy.createTimestamp = this.createTimestamp;
+		copy.deskIdString = this.deskIdString;
+		copy.locationByte = this.locationByte;
+		copy.maxFloat = this.maxFloat;
+		copy.minShort = this.minShort;
+		copy.sizeDouble = this.sizeDouble;
+		copy.statusChar = this.statusChar;
+		copy.tagInt = this.tagInt;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.activeBoolean = in.readBoolean();
+		this.bigDouble = (BigDecimal)in.readObject();
+		this.closedDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.connectionLong = in.readLong();
+		this.createTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ParaDeskFinder.isFullCache(), ParaDeskFinder.isOffHeap());
+		this.deskIdString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaDeskFinder.isFullCache());
+		this.locationByte = in.readByte();
+		this.maxFloat = in.readFloat();
+		this.minShort = in.readShort();
+		this.sizeDouble = in.readDouble();
+		this.statusChar = in.readChar();
+		this.tagInt = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ParaDeskData otherData = (ParaDeskData) other;
+		if (!isDeskIdStringNull() ? !getDeskIdString().equals(otherData.getDeskIdString()) : !otherData.isDeskIdStringNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.deskIdString);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskIdString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaDeskFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ParaDeskData paraDeskData = (ParaDeskData) newData;
+		this.setActiveBoolean(paraDeskData.isActiveBoolean());
+		if (paraDeskData.isActiveBooleanNull()) this.setActiveBooleanNull();
+		this.setBigDouble(paraDeskData.getBigDouble());
+		this.setClosedDate(paraDeskData.getClosedDate());
+		this.setConnectionLong(paraDeskData.getConnectionLong());
+		if (paraDeskData.isConnectionLongNull()) this.setConnectionLongNull();
+		this.setCreateTimestamp(paraDeskData.getCreateTimestamp());
+		this.setLocationByte(paraDeskData.getLocationByte());
+		if (paraDeskData.isLocationByteNull()) this.setLocationByteNull();
+		this.setMaxFloat(paraDeskData.getMaxFloat());
+		if (paraDeskData.isMaxFloatNull()) this.setMaxFloatNull();
+		this.setMinShort(paraDeskData.getMinShort());
+		if (paraDeskData.isMinShortNull()) this.setMinShortNull();
+		this.setSizeDouble(paraDeskData.getSizeDouble());
+		if (paraDeskData.isSizeDoubleNull()) this.setSizeDoubleNull();
+		this.setStatusChar(paraDeskData.getStatusChar());
+		if (paraDeskData.isStatusCharNull()) this.setStatusCharNull();
+		this.setTagInt(paraDeskData.getTagInt());
+		if (paraDeskData.isTagIntNull()) this.setTagIntNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ParaDeskData other = (ParaDeskData) newData;
+		if ( isActiveBooleanNull() != other.isActiveBooleanNull() || isActiveBoolean() != other.isActiveBoolean())
+		{
+			return true;
+		}
+
+		if (!isBigDoubleNull() ? !getBigDouble().equals(other.getBigDouble()) : !other.isBigDoubleNull())
+		{
+			return true;
+		}
+
+		if (!isClosedDateNull() ? !getClosedDate().equals(other.getClosedDate()) : !other.isClosedDateNull())
+		{
+			return true;
+		}
+
+		if ( isConnectionLongNull() != other.isConnectionLongNull() || getConnectionLong() != other.getConnectionLong())
+		{
+			return true;
+		}
+
+		if (!isCreateTimestampNull() ? !getCreateTimestamp().equals(other.getCreateTimestamp()) : !other.isCreateTimestampNull())
+		{
+			return true;
+		}
+
+		if ( isLocationByteNull() != other.isLocationByteNull() || getLocationByte() != other.getLocationByte())
+		{
+			return true;
+		}
+
+		if ( isMaxFloatNull() != other.isMaxFloatNull() || Math.abs(getMaxFloat() - other.getMaxFloat()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isMinShortNull() != other.isMinShortNull() || getMinShort() != other.getMinShort())
+		{
+			return true;
+		}
+
+		if ( isSizeDoubleNull() != other.isSizeDoubleNull() || Math.abs(getSizeDouble() - other.getSizeDouble()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isStatusCharNull() != other.isStatusCharNull() || getStatusChar() != other.getStatusChar())
+		{
+			return true;
+		}
+
+		if ( isTagIntNull() != other.isTagIntNull() || getTagInt() != other.getTagInt())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ParaDeskData copy = new ParaDeskData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ParaDeskData copy = new ParaDeskData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskIdString: "+"'"+getDeskIdString()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ParaDeskData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ParaDeskFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ParaDeskFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ParaDeskData";
+	}
+}
@@ -0,0 +1,427 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ParaDeskDatabaseObjectAbstract extends MithraAbstractDatabaseObject implements MithraDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ACTIVE_BOOLEAN,SIZE_DOUBLE,CONNECTION_LONG,TAG_INT,STATUS_CHAR,CREATE_TIMESTAMP,LOCATION_BYTE,CLOSED_DATE,MAX_FLOAT,MIN_SHORT,BIG_DOUBLE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ACTIVE_BOOLEAN,t0.SIZE_DOUBLE,t0.CONNECTION_LONG,t0.TAG_INT,t0.STATUS_CHAR,t0.CREATE_TIMESTAMP,t0.LOCATION_BYTE,t0.CLOSED_DATE,t0.MAX_FLOAT,t0.MIN_SHORT,t0.BIG_DOUBLE";
+	private static final String PK_WITH_ALIAS = "t0.DESK_ID_STRING = ?";
+	private static final String PK_INDEX_COLS = "DESK_ID_STRING";
+	protected ParaDeskDatabaseObjectAbstract()
+	{
+		super("ParaDesk", "com.gs.fw.common.mithra.test.domain.ParaDeskFinder",
+			12, 12,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParaDeskFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ParaDeskFinder.getFinderInstance();
+	}
+
+	public static ParaDeskData allocateOnHeapData()
+	{
+		return new ParaDeskData();
+	}
+
+	public static ParaDeskData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ParaDeskData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ParaDeskData data = new ParaDeskData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new FullNonDatedCache(ParaDeskFinder.getPrimaryKeyAttributes(), this, ParaDeskFinder.getImmutableAttributes());
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new PartialNonDatedCache(ParaDeskFinder.getPrimaryKeyAttributes(), this, ParaDeskFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ParaDeskFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ParaDeskFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateParaDeskData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkParaDeskData(1, (ParaDeskData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateParaDeskPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getParaDeskTableName();
+	}
+
+	public String getParaDeskTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ParaDeskData data = (ParaDeskData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getDeskIdString());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "DESK_ID_STRING = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.DESK_ID_STRING,t0.ACTIVE_BOOLEAN,t0.SIZE_DOUBLE,t0.CONNECTION_LONG,t0.TAG_INT,t0.STATUS_CHAR,t0.CREATE_TIMESTAMP,t0.LOCATION_BYTE,t0.CLOSED_DATE,t0.MAX_FLOAT,t0.MIN_SHORT,t0.BIG_DOUBLE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*12);
+		result.append(databaseAlias).append(".").append("DESK_ID_STRING");
+		result.append(",").append(databaseAlias).append(".").append("ACTIVE_BOOLEAN");
+		result.append(",").append(databaseAlias).append(".").append("SIZE_DOUBLE");
+		result.append(",").append(databaseAlias).append(".").append("CONNECTION_LONG");
+		result.append(",").append(databaseAlias).append(".").append("TAG_INT");
+		result.append(",").append(databaseAlias).append(".").append("STATUS_CHAR");
+		result.append(",").append(databaseAlias).append(".").append("CREATE_TIMESTAMP");
+		result.append(",").append(databaseAlias).append(".").append("LOCATION_BYTE");
+		result.append(",").append(databaseAlias).append(".").append("CLOSED_DATE");
+		result.append(",").append(databaseAlias).append(".").append("MAX_FLOAT");
+		result.append(",").append(databaseAlias).append(".").append("MIN_SHORT");
+		result.append(",").append(databaseAlias).append(".").append("BIG_DOUBLE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ParaDeskData inflateParaDeskData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ParaDeskData data = inflateParaDeskPkData(rs, dt);
+		inflateNonPkParaDeskData(2, data, rs, dt);
+		return data;
+	}
+
+	public ParaDeskData inflateParaDeskPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ParaDeskData _data = new ParaDeskData();
+		int _pos = 1;
+		_data.setDeskIdString(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkParaDeskData(int _pos, ParaDeskData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ParaDeskData _data = _datax;
+			_data.setActiveBoolean(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setActiveBooleanNull();
+			}
+
+			_data.setSizeDouble(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setSizeDoubleNull();
+			}
+
+			_data.setConnectionLong(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setConnectionLongNull();
+			}
+
+			_data.setTagInt(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTagIntNull();
+			}
+
+			String statusCharCharValue = _rs.getString(_pos++);
+			boolean statusCharCharValueisNull = statusCharCharValue == null || statusCharCharValue.length() < 1;
+			if(!statusCharCharValueisNull)
+			{
+				if(statusCharCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(statusCharCharValue.length() == 1)
+				{
+					_data.setStatusChar(statusCharCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setStatusCharNull();
+			}
+
+			Timestamp createTimestamptimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setCreateTimestamp(createTimestamptimestampValue);
+			_data.setLocationByte(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setLocationByteNull();
+			}
+
+			_data.setClosedDate(_rs.getDate(_pos++));
+			_data.setMaxFloat(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMaxFloatNull();
+			}
+
+			_data.setMinShort(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMinShortNull();
+			}
+
+			_data.setBigDouble(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 5, 2));
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "PARA_DESK";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ParaDesk newObject = new ParaDesk();
+		newObject.zSetFromParaDeskData((ParaDeskData) newData);
+		return newObject;
+	}
+
+	public void analyzeChangeForReload(PrimaryKeyIndex fullUniqueIndex, MithraDataObject data, List newDataList, List updatedDataList)
+	{
+		ParaDesk object = fullUniqueIndex == null ? null : (ParaDesk) fullUniqueIndex.removeUsingUnderlying(data);
+		if (object == null)
+		{
+			newDataList.add(createObject(data));
+		}
+		else
+		{
+			if (object.zChanged(data))
+			{
+				updatedDataList.add(data);
+			}
+		}
+	}
+}
@@ -0,0 +1,821 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ParaDeskFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ParaDesk";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ParaDesk";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ParaDesk");
+	private static final ParaDeskSingleFinder<ParaDesk, Object, ParaDesk> finder = new ParaDeskSingleFinder<ParaDesk, Object, ParaDesk>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ParaDeskFinder.ParaDeskRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("deskIdString");
+		finderMethodMap.addNormalAttributeName("activeBoolean");
+		finderMethodMap.addNormalAttributeName("sizeDouble");
+		finderMethodMap.addNormalAttributeName("connectionLong");
+		finderMethodMap.addNormalAttributeName("tagInt");
+		finderMethodMap.addNormalAttributeName("statusChar");
+		finderMethodMap.addNormalAttributeName("createTimestamp");
+		finderMethodMap.addNormalAttributeName("locationByte");
+		finderMethodMap.addNormalAttributeName("closedDate");
+		finderMethodMap.addNormalAttributeName("maxFloat");
+		finderMethodMap.addNormalAttributeName("minShort");
+		finderMethodMap.addNormalAttributeName("bigDouble");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ParaDesk findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ParaDesk findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ParaDeskList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ParaDeskList) finder.findMany(operation);
+	}
+
+	public static ParaDeskList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ParaDeskList) finder.findManyBypassCache(operation);
+	}
+
+	private static ParaDesk findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ParaDesk) FinderUtils.findOne(found);
+	}
+
+	public static ParaDesk findByPrimaryKey(String deskIdString)
+	{
+		return finder.findByPrimaryKey(deskIdString);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ParaDesk _castedTargetData = (ParaDesk) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getDeskIdString()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static ParaDesk zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ParaDesk) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ParaDeskRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ParaDesk, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> deskIdString;
+		private BooleanAttribute<ParentOwnerType> activeBoolean;
+		private DoubleAttribute<ParentOwnerType> sizeDouble;
+		private LongAttribute<ParentOwnerType> connectionLong;
+		private IntegerAttribute<ParentOwnerType> tagInt;
+		private CharAttribute<ParentOwnerType> statusChar;
+		private TimestampAttribute<ParentOwnerType> createTimestamp;
+		private ByteAttribute<ParentOwnerType> locationByte;
+		private DateAttribute<ParentOwnerType> closedDate;
+		private FloatAttribute<ParentOwnerType> maxFloat;
+		private ShortAttribute<ParentOwnerType> minShort;
+		private BigDecimalAttribute<ParentOwnerType> bigDouble;
+		public ParaDeskRelatedFinder()
+		{
+			super();
+		}
+
+		public ParaDeskRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ParaDeskFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ParaDeskFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ParaDeskFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ParaDeskFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[12];
+			attributes[0] = this.deskIdString();
+			attributes[1] = this.activeBoolean();
+			attributes[2] = this.sizeDouble();
+			attributes[3] = this.connectionLong();
+			attributes[4] = this.tagInt();
+			attributes[5] = this.statusChar();
+			attributes[6] = this.createTimestamp();
+			attributes[7] = this.locationByte();
+			attributes[8] = this.closedDate();
+			attributes[9] = this.maxFloat();
+			attributes[10] = this.minShort();
+			attributes[11] = this.bigDouble();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ParaDesk findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ParaDeskFinder.findOne(operation, false);
+		}
+
+		public ParaDesk findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ParaDeskFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ParaDesk> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ParaDeskList((Operation) operation);
+		}
+
+		public MithraList<? extends ParaDesk> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ParaDeskList result = (ParaDeskList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ParaDesk> constructEmptyList()
+		{
+			return new ParaDeskList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 230083553;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> deskIdString()
+		{
+			StringAttribute<ParentOwnerType> result = this.deskIdString;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESK_ID_STRING","","deskIdString",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,3,true, false) :
+					new MappedStringAttribute(ParaDeskFinder.deskIdString(), this.mapper, this.zGetValueSelector());
+				this.deskIdString = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> activeBoolean()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.activeBoolean;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("ACTIVE_BOOLEAN","","activeBoolean",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(ParaDeskFinder.activeBoolean(), this.mapper, this.zGetValueSelector());
+				this.activeBoolean = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> sizeDouble()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.sizeDouble;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("SIZE_DOUBLE","","sizeDouble",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ParaDeskFinder.sizeDouble(), this.mapper, this.zGetValueSelector());
+				this.sizeDouble = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> connectionLong()
+		{
+			LongAttribute<ParentOwnerType> result = this.connectionLong;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("CONNECTION_LONG","","connectionLong",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(ParaDeskFinder.connectionLong(), this.mapper, this.zGetValueSelector());
+				this.connectionLong = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> tagInt()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.tagInt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TAG_INT","","tagInt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ParaDeskFinder.tagInt(), this.mapper, this.zGetValueSelector());
+				this.tagInt = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> statusChar()
+		{
+			CharAttribute<ParentOwnerType> result = this.statusChar;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("STATUS_CHAR","","statusChar",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedCharAttribute(ParaDeskFinder.statusChar(), this.mapper, this.zGetValueSelector());
+				this.statusChar = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> createTimestamp()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.createTimestamp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("CREATE_TIMESTAMP","","createTimestamp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ParaDeskFinder.createTimestamp(), this.mapper, this.zGetValueSelector());
+				this.createTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> locationByte()
+		{
+			ByteAttribute<ParentOwnerType> result = this.locationByte;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("LOCATION_BYTE","","locationByte",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedByteAttribute(ParaDeskFinder.locationByte(), this.mapper, this.zGetValueSelector());
+				this.locationByte = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> closedDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.closedDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("CLOSED_DATE","","closedDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(ParaDeskFinder.closedDate(), this.mapper, this.zGetValueSelector());
+				this.closedDate = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> maxFloat()
+		{
+			FloatAttribute<ParentOwnerType> result = this.maxFloat;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("MAX_FLOAT","","maxFloat",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(ParaDeskFinder.maxFloat(), this.mapper, this.zGetValueSelector());
+				this.maxFloat = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> minShort()
+		{
+			ShortAttribute<ParentOwnerType> result = this.minShort;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("MIN_SHORT","","minShort",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedShortAttribute(ParaDeskFinder.minShort(), this.mapper, this.zGetValueSelector());
+				this.minShort = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> bigDouble()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.bigDouble;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("BIG_DOUBLE","","bigDouble",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,5,2, false) :
+					new MappedBigDecimalAttribute(ParaDeskFinder.bigDouble(), this.mapper, this.zGetValueSelector());
+				this.bigDouble = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ParaDeskFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ParaDeskFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ParaDeskCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ParaDeskRelatedFinder<ParentOwnerType, ReturnType, ParaDeskList, OwnerType>
+	{
+		public ParaDeskCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ParaDeskCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ParaDeskCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParaDeskCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ParaDeskSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ParaDeskRelatedFinder<ParentOwnerType, ReturnType, ParaDeskList, OwnerType>
+	implements ToOneFinder
+	{
+		public ParaDeskSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ParaDeskSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ParaDesk other)
+		{
+			return this.deskIdString().eq(other.getDeskIdString())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ParaDesk findByPrimaryKey(String deskIdString)
+		{
+			ParaDesk _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (deskIdString != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(deskIdString);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ParaDesk) _related;
+			if (_related == null)
+			{
+				_op = this.deskIdString().eq(deskIdString);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ParaDeskSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ParaDeskSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParaDeskSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to PARA_DESK.DESK_ID_STRING **/
+	public static StringAttribute<ParaDesk> deskIdString()
+	{
+		return finder.deskIdString();
+	}
+
+	/** maps to PARA_DESK.ACTIVE_BOOLEAN **/
+	public static BooleanAttribute<ParaDesk> activeBoolean()
+	{
+		return finder.activeBoolean();
+	}
+
+	/** maps to PARA_DESK.SIZE_DOUBLE **/
+	public static DoubleAttribute<ParaDesk> sizeDouble()
+	{
+		return finder.sizeDouble();
+	}
+
+	/** maps to PARA_DESK.CONNECTION_LONG **/
+	public static LongAttribute<ParaDesk> connectionLong()
+	{
+		return finder.connectionLong();
+	}
+
+	/** maps to PARA_DESK.TAG_INT **/
+	public static IntegerAttribute<ParaDesk> tagInt()
+	{
+		return finder.tagInt();
+	}
+
+	/** maps to PARA_DESK.STATUS_CHAR **/
+	public static CharAttribute<ParaDesk> statusChar()
+	{
+		return finder.statusChar();
+	}
+
+	/** maps to PARA_DESK.CREATE_TIMESTAMP **/
+	public static TimestampAttribute<ParaDesk> createTimestamp()
+	{
+		return finder.createTimestamp();
+	}
+
+	/** maps to PARA_DESK.LOCATION_BYTE **/
+	public static ByteAttribute<ParaDesk> locationByte()
+	{
+		return finder.locationByte();
+	}
+
+	/** maps to PARA_DESK.CLOSED_DATE **/
+	public static DateAttribute<ParaDesk> closedDate()
+	{
+		return finder.closedDate();
+	}
+
+	/** maps to PARA_DESK.MAX_FLOAT **/
+	public static FloatAttribute<ParaDesk> maxFloat()
+	{
+		return finder.maxFloat();
+	}
+
+	/** maps to PARA_DESK.MIN_SHORT **/
+	public static ShortAttribute<ParaDesk> minShort()
+	{
+		return finder.minShort();
+	}
+
+	/** maps to PARA_DESK.BIG_DOUBLE **/
+	public static BigDecimalAttribute<ParaDesk> bigDouble()
+	{
+		return finder.bigDouble();
+	}
+
+	public static Operation eq(ParaDesk other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(deskIdString());
+	}
+
+	public static ParaDeskSingleFinder<ParaDesk, Object, ParaDesk> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			deskIdString()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			deskIdString()
+			, deskIdString()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = sizeDouble();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[1];
+		result[0] = bigDouble();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ParaDesk");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,1846 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ParaPositionData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 120;
+	boolean isAccountNumberNull();
+	String getAccountNumber();
+	void setAccountNumber(String value);
+	void setAccountNumberNull();
+	int zGetAccountNumberAsInt();
+	boolean isAccountSubtypeNull();
+	String getAccountSubtype();
+	void setAccountSubtype(String value);
+	void setAccountSubtypeNull();
+	int zGetAccountSubtypeAsInt();
+	boolean isBusinessDateNull();
+	Timestamp getBusinessDate();
+	void setBusinessDate(Timestamp value);
+	void setBusinessDateNull();
+	long zGetBusinessDateAsLong();
+	boolean isFasbObservableNull();
+	int getFasbObservable();
+	void setFasbObservable(int value);
+	void setFasbObservableNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isProductIdentifierNull();
+	String getProductIdentifier();
+	void setProductIdentifier(String value);
+	void setProductIdentifierNull();
+	int zGetProductIdentifierAsInt();
+	boolean isQtdOpenCostNull();
+	double getQtdOpenCost();
+	void setQtdOpenCost(double value);
+	void setQtdOpenCostNull();
+	boolean isQtdRealizedNull();
+	double getQtdRealized();
+	void setQtdRealized(double value);
+	void setQtdRealizedNull();
+	boolean isQtdTradingNull();
+	double getQtdTrading();
+	void setQtdTrading(double value);
+	void setQtdTradingNull();
+	boolean isQtdUnrealizedNull();
+	double getQtdUnrealized();
+	void setQtdUnrealized(double value);
+	void setQtdUnrealizedNull();
+	boolean isUpdatedNull();
+	Timestamp getUpdated();
+	void setUpdated(Timestamp value);
+	void setUpdatedNull();
+	long zGetUpdatedAsLong();
+	boolean isYtdOpenCostNull();
+	double getYtdOpenCost();
+	void setYtdOpenCost(double value);
+	void setYtdOpenCostNull();
+	boolean isYtdRealizedNull();
+	double getYtdRealized();
+	void setYtdRealized(double value);
+	void setYtdRealizedNull();
+	boolean isYtdTradingNull();
+	double getYtdTrading();
+	void setYtdTrading(double value);
+	void setYtdTradingNull();
+	boolean isYtdUnrealizedNull();
+	double getYtdUnrealized();
+	void setYtdUnrealized(double value);
+	void setYtdUnrealizedNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getProduct();
+	void setProduct(Object related);
+	Object getAccount();
+	void setAccount(Object related);
+	public class ParaPositionDataOnHeap implements ParaPositionData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private short isNullBits0 = 0;
+		private String accountNumber;
+		private String accountSubtype;
+		private Timestamp businessDate;
+		private int fasbObservable;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String productIdentifier;
+		private double qtdOpenCost;
+		private double qtdRealized;
+		private double qtdTrading;
+		private double qtdUnrealized;
+		private Timestamp updated;
+		private double ytdOpenCost;
+		private double ytdRealized;
+		private double ytdTrading;
+		private double ytdUnrealized;
+		public boolean isAccountNumberNull()
+		{
+			return this.getAccountNumber() == null;
+		}
+
+		public boolean isAccountSubtypeNull()
+		{
+			return this.getAccountSubtype() == null;
+		}
+
+		public boolean isBusinessDateNull()
+		{
+			return this.getBusinessDate() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isProductIdentifierNull()
+		{
+			return this.getProductIdentifier() == null;
+		}
+
+		public boolean isUpdatedNull()
+		{
+			return this.getUpdated() == null;
+		}
+
+		public boolean isQtdOpenCostNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isYtdOpenCostNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public boolean isQtdUnrealizedNull()
+		{
+			return (isNullBits0 & 1 << 2) != 0 ;
+		}
+
+		public boolean isYtdUnrealizedNull()
+		{
+			return (isNullBits0 & 1 << 3) != 0 ;
+		}
+
+		public boolean isQtdRealizedNull()
+		{
+			return (isNullBits0 & 1 << 4) != 0 ;
+		}
+
+		public boolean isYtdRealizedNull()
+		{
+			return (isNullBits0 & 1 << 5) != 0 ;
+		}
+
+		public boolean isQtdTradingNull()
+		{
+			return (isNullBits0 & 1 << 6) != 0 ;
+		}
+
+		public boolean isYtdTradingNull()
+		{
+			return (isNullBits0 & 1 << 7) != 0 ;
+		}
+
+		public boolean isFasbObservableNull()
+		{
+			return (isNullBits0 & 1 << 8) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.accountNumber);
+			out.writeObject(this.accountSubtype);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+			out.writeInt(this.fasbObservable);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, ParaPositionFinder.processingDate().getInfinityDate());
+			out.writeObject(this.productIdentifier);
+			out.writeDouble(this.qtdOpenCost);
+			out.writeDouble(this.qtdRealized);
+			out.writeDouble(this.qtdTrading);
+			out.writeDouble(this.qtdUnrealized);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.updated);
+			out.writeDouble(this.ytdOpenCost);
+			out.writeDouble(this.ytdRealized);
+			out.writeDouble(this.ytdTrading);
+			out.writeDouble(this.ytdUnrealized);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeShort(this.isNullBits0);
+		}
+
+		public String getAccountNumber()
+		{
+			return this.accountNumber;
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountNumber);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache(value, ParaPositionFinder.isFullCache());
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public String getAccountSubtype()
+		{
+			return this.accountSubtype;
+		}
+
+		public int zGetAccountSubtypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountSubtype);
+		}
+
+		public void setAccountSubtype(String value)
+		{
+			this.accountSubtype = StringPool.getInstance().getOrAddToCache(value, ParaPositionFinder.isFullCache());
+		}
+
+		public void setAccountSubtypeNull()
+		{
+			this.setAccountSubtype(null);
+		}
+
+		public Timestamp getBusinessDate()
+		{
+			return this.businessDate;
+		}
+
+		public long zGetBusinessDateAsLong()
+		{
+			if (businessDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDate.getTime();
+		}
+
+		public void setBusinessDate(Timestamp value)
+		{
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(value, ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+		}
+
+		public void setBusinessDateNull()
+		{
+			this.setBusinessDate(null);
+		}
+
+		public int getFasbObservable()
+		{
+			return this.fasbObservable;
+		}
+
+		public void setFasbObservable(int value)
+		{
+			this.fasbObservable = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 8));
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getProductIdentifier()
+		{
+			return this.productIdentifier;
+		}
+
+		public int zGetProductIdentifierAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(productIdentifier);
+		}
+
+		public void setProductIdentifier(String value)
+		{
+			this.productIdentifier = StringPool.getInstance().getOrAddToCache(value, ParaPositionFinder.isFullCache());
+		}
+
+		public void setProductIdentifierNull()
+		{
+			this.setProductIdentifier(null);
+		}
+
+		public double getQtdOpenCost()
+		{
+			return this.qtdOpenCost;
+		}
+
+		public void setQtdOpenCost(double value)
+		{
+			this.qtdOpenCost = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1));
+		}
+
+		public double getQtdRealized()
+		{
+			return this.qtdRealized;
+		}
+
+		public void setQtdRealized(double value)
+		{
+			this.qtdRealized = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 4));
+		}
+
+		public double getQtdTrading()
+		{
+			return this.qtdTrading;
+		}
+
+		public void setQtdTrading(double value)
+		{
+			this.qtdTrading = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 6));
+		}
+
+		public double getQtdUnrealized()
+		{
+			return this.qtdUnrealized;
+		}
+
+		public void setQtdUnrealized(double value)
+		{
+			this.qtdUnrealized = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 2));
+		}
+
+		public Timestamp getUpdated()
+		{
+			return this.updated;
+		}
+
+		public long zGetUpdatedAsLong()
+		{
+			if (updated == null) return TimestampPool.OFF_HEAP_NULL;
+			return updated.getTime();
+		}
+
+		public void setUpdated(Timestamp value)
+		{
+			this.updated = TimestampPool.getInstance().getOrAddToCache(value, ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+		}
+
+		public void setUpdatedNull()
+		{
+			this.setUpdated(null);
+		}
+
+		public double getYtdOpenCost()
+		{
+			return this.ytdOpenCost;
+		}
+
+		public void setYtdOpenCost(double value)
+		{
+			this.ytdOpenCost = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public double getYtdRealized()
+		{
+			return this.ytdRealized;
+		}
+
+		public void setYtdRealized(double value)
+		{
+			this.ytdRealized = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 5));
+		}
+
+		public double getYtdTrading()
+		{
+			return this.ytdTrading;
+		}
+
+		public void setYtdTrading(double value)
+		{
+			this.ytdTrading = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 7));
+		}
+
+		public double getYtdUnrealized()
+		{
+			return this.ytdUnrealized;
+		}
+
+		public void setYtdUnrealized(double value)
+		{
+			this.ytdUnrealized = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 3));
+		}
+
+		public void setQtdOpenCostNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1);
+		}
+
+		public void setYtdOpenCostNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 1);
+		}
+
+		public void setQtdUnrealizedNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 2);
+		}
+
+		public void setYtdUnrealizedNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 3);
+		}
+
+		public void setQtdRealizedNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 4);
+		}
+
+		public void setYtdRealizedNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 5);
+		}
+
+		public void setQtdTradingNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 6);
+		}
+
+		public void setYtdTradingNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 7);
+		}
+
+		public void setFasbObservableNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 8);
+		}
+
+		public short zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(short newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(ParaPositionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.accountNumber = this.accountNumber;
+			copy.accountSubtype = this.accountSubtype;
+			copy.businessDate = this.businessDate;
+			copy.fasbObservable = this.fasbObservable;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.productIdentifier = this.productIdentifier;
+			copy.qtdOpenCost = this.qtdOpenCost;
+			copy.qtdRealized = this.qtdRealized;
+			copy.qtdTrading = this.qtdTrading;
+			copy.qtdUnrealized = this.qtdUnrealized;
+			copy.updated = this.updated;
+			copy.ytdOpenCost = this.ytdOpenCost;
+			copy.ytdRealized = this.ytdRealized;
+			copy.ytdTrading = this.ytdTrading;
+			copy.ytdUnrealized = this.ytdUnrealized;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[2];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readShort();
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaPositionFinder.isFullCache());
+			this.accountSubtype = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaPositionFinder.isFullCache());
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+			this.fasbObservable = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, ParaPositionFinder.processingDate().getInfinityDate()), ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+			this.productIdentifier = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaPositionFinder.isFullCache());
+			this.qtdOpenCost = in.readDouble();
+			this.qtdRealized = in.readDouble();
+			this.qtdTrading = in.readDouble();
+			this.qtdUnrealized = in.readDouble();
+			this.updated = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+			this.ytdOpenCost = in.readDouble();
+			this.ytdRealized = in.readDouble();
+			this.ytdTrading = in.readDouble();
+			this.ytdUnrealized = in.readDouble();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final ParaPositionData otherData = (ParaPositionData) other;
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(otherData.getAccountNumber()) : !otherData.isAccountNumberNull())
+			{
+				return false;
+			}
+
+			if (!isAccountSubtypeNull() ? !getAccountSubtype().equals(otherData.getAccountSubtype()) : !otherData.isAccountSubtypeNull())
+			{
+				return false;
+			}
+
+			if (!isBusinessDateNull() ? !getBusinessDate().equals(otherData.getBusinessDate()) : !otherData.isBusinessDateNull())
+			{
+				return false;
+			}
+
+			if (!isProductIdentifierNull() ? !getProductIdentifier().equals(otherData.getProductIdentifier()) : !otherData.isProductIdentifierNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.accountNumber);
+			out.writeObject(this.accountSubtype);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, ParaPositionFinder.processingDate().getInfinityDate());
+			out.writeObject(this.productIdentifier);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readShort();
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaPositionFinder.isFullCache());
+			this.accountSubtype = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaPositionFinder.isFullCache());
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, ParaPositionFinder.processingDate().getInfinityDate()), ParaPositionFinder.isFullCache(), ParaPositionFinder.isOffHeap());
+			this.productIdentifier = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaPositionFinder.isFullCache());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getProduct()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setProduct(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getAccount()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setAccount(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			ParaPositionDataOffHeap data = new ParaPositionDataOffHeap();
+			data.setAccountNumber(this.getAccountNumber());
+			data.setAccountSubtype(this.getAccountSubtype());
+			data.setBusinessDate(this.getBusinessDate());
+			data.setFasbObservable(this.getFasbObservable());
+			if (this.isFasbObservableNull()) data.setFasbObservableNull();
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setProductIdentifier(this.getProductIdentifier());
+			data.setQtdOpenCost(this.getQtdOpenCost());
+			if (this.isQtdOpenCostNull()) data.setQtdOpenCostNull();
+			data.setQtdRealized(this.getQtdRealized());
+			if (this.isQtdRealizedNull()) data.setQtdRealizedNull();
+			data.setQtdTrading(this.getQtdTrading());
+			if (this.isQtdTradingNull()) data.setQtdTradingNull();
+			data.setQtdUnrealized(this.getQtdUnrealized());
+			if (this.isQtdUnrealizedNull()) data.setQtdUnrealizedNull();
+			data.setUpdated(this.getUpdated());
+			data.setYtdOpenCost(this.getYtdOpenCost());
+			if (this.isYtdOpenCostNull()) data.setYtdOpenCostNull();
+			data.setYtdRealized(this.getYtdRealized());
+			if (this.isYtdRealizedNull()) data.setYtdRealizedNull();
+			data.setYtdTrading(this.getYtdTrading());
+			if (this.isYtdTradingNull()) data.setYtdTradingNull();
+			data.setYtdUnrealized(this.getYtdUnrealized());
+			if (this.isYtdUnrealizedNull()) data.setYtdUnrealizedNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ParaPositionData paraPositionData = (ParaPositionData) newData;
+			this.setFasbObservable(paraPositionData.getFasbObservable());
+			if (paraPositionData.isFasbObservableNull()) this.setFasbObservableNull();
+			this.setProcessingDateFrom(paraPositionData.getProcessingDateFrom());
+			this.setProcessingDateTo(paraPositionData.getProcessingDateTo());
+			this.setQtdOpenCost(paraPositionData.getQtdOpenCost());
+			if (paraPositionData.isQtdOpenCostNull()) this.setQtdOpenCostNull();
+			this.setQtdRealized(paraPositionData.getQtdRealized());
+			if (paraPositionData.isQtdRealizedNull()) this.setQtdRealizedNull();
+			this.setQtdTrading(paraPositionData.getQtdTrading());
+			if (paraPositionData.isQtdTradingNull()) this.setQtdTradingNull();
+			this.setQtdUnrealized(paraPositionData.getQtdUnrealized());
+			if (paraPositionData.isQtdUnrealizedNull()) this.setQtdUnrealizedNull();
+			this.setUpdated(paraPositionData.getUpdated());
+			this.setYtdOpenCost(paraPositionData.getYtdOpenCost());
+			if (paraPositionData.isYtdOpenCostNull()) this.setYtdOpenCostNull();
+			this.setYtdRealized(paraPositionData.getYtdRealized());
+			if (paraPositionData.isYtdRealizedNull()) this.setYtdRealizedNull();
+			this.setYtdTrading(paraPositionData.getYtdTrading());
+			if (paraPositionData.isYtdTradingNull()) this.setYtdTradingNull();
+			this.setYtdUnrealized(paraPositionData.getYtdUnrealized());
+			if (paraPositionData.isYtdUnrealizedNull()) this.setYtdUnrealizedNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ParaPositionData other = (ParaPositionData) newData;
+			if ( isFasbObservableNull() != other.isFasbObservableNull() || getFasbObservable() != other.getFasbObservable())
+			{
+				return true;
+			}
+
+			if ( isQtdOpenCostNull() != other.isQtdOpenCostNull() || Math.abs(getQtdOpenCost() - other.getQtdOpenCost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isQtdRealizedNull() != other.isQtdRealizedNull() || Math.abs(getQtdRealized() - other.getQtdRealized()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isQtdTradingNull() != other.isQtdTradingNull() || Math.abs(getQtdTrading() - other.getQtdTrading()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isQtdUnrealizedNull() != other.isQtdUnrealizedNull() || Math.abs(getQtdUnrealized() - other.getQtdUnrealized()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isUpdatedNull() ? !getUpdated().equals(other.getUpdated()) : !other.isUpdatedNull())
+			{
+				return true;
+			}
+
+			if ( isYtdOpenCostNull() != other.isYtdOpenCostNull() || Math.abs(getYtdOpenCost() - other.getYtdOpenCost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isYtdRealizedNull() != other.isYtdRealizedNull() || Math.abs(getYtdRealized() - other.getYtdRealized()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isYtdTradingNull() != other.isYtdTradingNull() || Math.abs(getYtdTrading() - other.getYtdTrading()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isYtdUnrealizedNull() != other.isYtdUnrealizedNull() || Math.abs(getYtdUnrealized() - other.getYtdUnrealized()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ParaPositionDataOnHeap copy = new ParaPositionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ParaPositionDataOnHeap copy = new ParaPositionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountNumber: "+"'"+getAccountNumber()+"'"+ " / ";
+			result += "accountSubtype: "+(isAccountSubtypeNull() ? "null" : "'"+getAccountSubtype()+"'")+ " / ";
+			result += "businessDate: "+(isBusinessDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getBusinessDate().getTime()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "productIdentifier: "+"'"+getProductIdentifier()+"'"+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ParaPositionData otherData = (ParaPositionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ParaPositionData otherData = (ParaPositionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ParaPositionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			final ParaPositionData paraPositionData = (ParaPositionData) newData;
+			if (isAccountSubtypeNull() != paraPositionData.isAccountSubtypeNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ParaPositionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ParaPositionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ParaPositionData";
+		}
+	}
+
+	public class ParaPositionDataOffHeap extends MithraOffHeapDataObject implements ParaPositionData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public ParaPositionDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 32);
+			this.zSetTimestamp(_storage, value, 40);
+			this.zSetTimestamp(_storage, value, 80);
+		}
+
+		public ParaPositionDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccountNumberNull()
+		{
+			return zIsStringNull(_storage, 8);
+		}
+
+		public boolean isAccountSubtypeNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isBusinessDateNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isFasbObservableNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public boolean isProductIdentifierNull()
+		{
+			return zIsStringNull(_storage, 24);
+		}
+
+		public boolean isQtdOpenCostNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isQtdRealizedNull()
+		{
+			return zIsNull(_storage, 4, 2);
+		}
+
+		public boolean isQtdTradingNull()
+		{
+			return zIsNull(_storage, 4, 3);
+		}
+
+		public boolean isQtdUnrealizedNull()
+		{
+			return zIsNull(_storage, 4, 4);
+		}
+
+		public boolean isUpdatedNull()
+		{
+			return zIsTimestampNull(_storage, 80);
+		}
+
+		public boolean isYtdOpenCostNull()
+		{
+			return zIsNull(_storage, 4, 5);
+		}
+
+		public boolean isYtdRealizedNull()
+		{
+			return zIsNull(_storage, 4, 6);
+		}
+
+		public boolean isYtdTradingNull()
+		{
+			return zIsNull(_storage, 4, 7);
+		}
+
+		public boolean isYtdUnrealizedNull()
+		{
+			return zIsNull(_storage, 4, 8);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAccountNumber());
+			out.writeObject(this.getAccountSubtype());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateAsLong());
+			out.writeInt(this.getFasbObservable());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ParaPositionFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getProductIdentifier());
+			out.writeDouble(this.getQtdOpenCost());
+			out.writeDouble(this.getQtdRealized());
+			out.writeDouble(this.getQtdTrading());
+			out.writeDouble(this.getQtdUnrealized());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetUpdatedAsLong());
+			out.writeDouble(this.getYtdOpenCost());
+			out.writeDouble(this.getYtdRealized());
+			out.writeDouble(this.getYtdTrading());
+			out.writeDouble(this.getYtdUnrealized());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			short isNullBits0 = 0;
+			if (isQtdOpenCostNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1);
+			}
+
+			if (isYtdOpenCostNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 1);
+			}
+
+			if (isQtdUnrealizedNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 2);
+			}
+
+			if (isYtdUnrealizedNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 3);
+			}
+
+			if (isQtdRealizedNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 4);
+			}
+
+			if (isYtdRealizedNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 5);
+			}
+
+			if (isQtdTradingNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 6);
+			}
+
+			if (isYtdTradingNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 7);
+			}
+
+			if (isFasbObservableNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 8);
+			}
+
+			out.writeShort(isNullBits0);
+		}
+
+		public String getAccountNumber()
+		{
+			return zGetString(_storage, 8);
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			zSetString(_storage, value, 8);
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public String getAccountSubtype()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetAccountSubtypeAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setAccountSubtype(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setAccountSubtypeNull()
+		{
+			this.setAccountSubtype(null);
+		}
+
+		public Timestamp getBusinessDate()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetBusinessDateAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setBusinessDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setBusinessDateNull()
+		{
+			this.setBusinessDate(null);
+		}
+
+		public int getFasbObservable()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setFasbObservable(int value)
+		{
+			zSetInteger(_storage, value, 28, 4, 0);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getProductIdentifier()
+		{
+			return zGetString(_storage, 24);
+		}
+
+		public int zGetProductIdentifierAsInt()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setProductIdentifier(String value)
+		{
+			zSetString(_storage, value, 24);
+		}
+
+		public void setProductIdentifierNull()
+		{
+			this.setProductIdentifier(null);
+		}
+
+		public double getQtdOpenCost()
+		{
+			return zGetDouble(_storage, 48);
+		}
+
+		public void setQtdOpenCost(double value)
+		{
+			zSetDouble(_storage, value, 48, 4, 1);
+		}
+
+		public double getQtdRealized()
+		{
+			return zGetDouble(_storage, 56);
+		}
+
+		public void setQtdRealized(double value)
+		{
+			zSetDouble(_storage, value, 56, 4, 2);
+		}
+
+		public double getQtdTrading()
+		{
+			return zGetDouble(_storage, 64);
+		}
+
+		public void setQtdTrading(double value)
+		{
+			zSetDouble(_storage, value, 64, 4, 3);
+		}
+
+		public double getQtdUnrealized()
+		{
+			return zGetDouble(_storage, 72);
+		}
+
+		public void setQtdUnrealized(double value)
+		{
+			zSetDouble(_storage, value, 72, 4, 4);
+		}
+
+		public Timestamp getUpdated()
+		{
+			return zGetTimestamp(_storage, 80);
+		}
+
+		public long zGetUpdatedAsLong()
+		{
+			return zGetLong(_storage, 80);
+		}
+
+		public void setUpdated(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 80);
+		}
+
+		public void setUpdatedNull()
+		{
+			this.setUpdated(null);
+		}
+
+		public double getYtdOpenCost()
+		{
+			return zGetDouble(_storage, 88);
+		}
+
+		public void setYtdOpenCost(double value)
+		{
+			zSetDouble(_storage, value, 88, 4, 5);
+		}
+
+		public double getYtdRealized()
+		{
+			return zGetDouble(_storage, 96);
+		}
+
+		public void setYtdRealized(double value)
+		{
+			zSetDouble(_storage, value, 96, 4, 6);
+		}
+
+		public double getYtdTrading()
+		{
+			return zGetDouble(_storage, 104);
+		}
+
+		public void setYtdTrading(double value)
+		{
+			zSetDouble(_storage, value, 104, 4, 7);
+		}
+
+		public double getYtdUnrealized()
+		{
+			return zGetDouble(_storage, 112);
+		}
+
+		public void setYtdUnrealized(double value)
+		{
+			zSetDouble(_storage, value, 112, 4, 8);
+		}
+
+		public void setQtdOpenCostNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public void setYtdOpenCostNull()
+		{
+			zSetNull(_storage, 4, 5);
+		}
+
+		public void setQtdUnrealizedNull()
+		{
+			zSetNull(_storage, 4, 4);
+		}
+
+		public void setYtdUnrealizedNull()
+		{
+			zSetNull(_storage, 4, 8);
+		}
+
+		public void setQtdRealizedNull()
+		{
+			zSetNull(_storage, 4, 2);
+		}
+
+		public void setYtdRealizedNull()
+		{
+			zSetNull(_storage, 4, 6);
+		}
+
+		public void setQtdTradingNull()
+		{
+			zSetNull(_storage, 4, 3);
+		}
+
+		public void setYtdTradingNull()
+		{
+			zSetNull(_storage, 4, 7);
+		}
+
+		public void setFasbObservableNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(ParaPositionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountNumber = this.getAccountNumber();
+			copy.accountSubtype = this.getAccountSubtype();
+			copy.businessDate = this.getBusinessDate();
+			copy.fasbObservable = this.getFasbObservable();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.productIdentifier = this.getProductIdentifier();
+			copy.qtdOpenCost = this.getQtdOpenCost();
+			copy.qtdRealized = this.getQtdRealized();
+			copy.qtdTrading = this.getQtdTrading();
+			copy.qtdUnrealized = this.getQtdUnrealized();
+			copy.updated = this.getUpdated();
+			copy.ytdOpenCost = this.getYtdOpenCost();
+			copy.ytdRealized = this.getYtdRealized();
+			copy.ytdTrading = this.getYtdTrading();
+			copy.ytdUnrealized = this.getYtdUnrealized();
+			if (isQtdOpenCostNull())
+			{
+				copy.setQtdOpenCostNull();
+			}
+
+			if (isYtdOpenCostNull())
+			{
+				copy.setYtdOpenCostNull();
+			}
+
+			if (isQtdUnrealizedNull())
+			{
+				copy.setQtdUnrealizedNull();
+			}
+
+			if (isYtdUnrealizedNull())
+			{
+				copy.setYtdUnrealizedNull();
+			}
+
+			if (isQtdRealizedNull())
+			{
+				copy.setQtdRealizedNull();
+			}
+
+			if (isYtdRealizedNull())
+			{
+				copy.setYtdRealizedNull();
+			}
+
+			if (isQtdTradingNull())
+			{
+				copy.setQtdTradingNull();
+			}
+
+			if (isYtdTradingNull())
+			{
+				copy.setYtdTradingNull();
+			}
+
+			if (isFasbObservableNull())
+			{
+				copy.setFasbObservableNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			short isNullBits0 = in.readShort();
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetInteger(_storage, in.readInt(), 28, 4, 0, (isNullBits0 & 1 << 8) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetString(_storage, (String)in.readObject(), 24);
+			zSetDouble(_storage, in.readDouble(), 48, 4, 1, (isNullBits0 & 1) != 0 );
+			zSetDouble(_storage, in.readDouble(), 56, 4, 2, (isNullBits0 & 1 << 4) != 0 );
+			zSetDouble(_storage, in.readDouble(), 64, 4, 3, (isNullBits0 & 1 << 6) != 0 );
+			zSetDouble(_storage, in.readDouble(), 72, 4, 4, (isNullBits0 & 1 << 2) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 80);
+			zSetDouble(_storage, in.readDouble(), 88, 4, 5, (isNullBits0 & 1 << 1) != 0 );
+			zSetDouble(_storage, in.readDouble(), 96, 4, 6, (isNullBits0 & 1 << 5) != 0 );
+			zSetDouble(_storage, in.readDouble(), 104, 4, 7, (isNullBits0 & 1 << 7) != 0 );
+			zSetDouble(_storage, in.readDouble(), 112, 4, 8, (isNullBits0 & 1 << 3) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof ParaPositionDataOffHeap)
+			{
+				final ParaPositionDataOffHeap otherData = (ParaPositionDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				if (this.zGetLong(_storage, 16) != otherData.zGetLong(_storage, 16))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 24) != otherData.zGetInteger(_storage, 24))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final ParaPositionData otherData = (ParaPositionData) other;
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(otherData.getAccountNumber()) : !otherData.isAccountNumberNull())
+			{
+				return false;
+			}
+
+			if (!isAccountSubtypeNull() ? !getAccountSubtype().equals(otherData.getAccountSubtype()) : !otherData.isAccountSubtypeNull())
+			{
+				return false;
+			}
+
+			if (!isBusinessDateNull() ? !getBusinessDate().equals(otherData.getBusinessDate()) : !otherData.isBusinessDateNull())
+			{
+				return false;
+			}
+
+			if (!isProductIdentifierNull() ? !getProductIdentifier().equals(otherData.getProductIdentifier()) : !otherData.isProductIdentifierNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAccountNumber());
+			out.writeObject(this.getAccountSubtype());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ParaPositionFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getProductIdentifier());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			short isNullBits0 = in.readShort();
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetString(_storage, (String)in.readObject(), 24);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getProduct()
+		{
+			return null;
+		}
+
+		public void setProduct(Object related)
+		{
+		}
+
+		public Object getAccount()
+		{
+			return null;
+		}
+
+		public void setAccount(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ParaPositionData paraPositionData = (ParaPositionData) newData;
+			this.setFasbObservable(paraPositionData.getFasbObservable());
+			if (paraPositionData.isFasbObservableNull()) this.setFasbObservableNull();
+			this.setProcessingDateFrom(paraPositionData.getProcessingDateFrom());
+			this.setProcessingDateTo(paraPositionData.getProcessingDateTo());
+			this.setQtdOpenCost(paraPositionData.getQtdOpenCost());
+			if (paraPositionData.isQtdOpenCostNull()) this.setQtdOpenCostNull();
+			this.setQtdRealized(paraPositionData.getQtdRealized());
+			if (paraPositionData.isQtdRealizedNull()) this.setQtdRealizedNull();
+			this.setQtdTrading(paraPositionData.getQtdTrading());
+			if (paraPositionData.isQtdTradingNull()) this.setQtdTradingNull();
+			this.setQtdUnrealized(paraPositionData.getQtdUnrealized());
+			if (paraPositionData.isQtdUnrealizedNull()) this.setQtdUnrealizedNull();
+			this.setUpdated(paraPositionData.getUpdated());
+			this.setYtdOpenCost(paraPositionData.getYtdOpenCost());
+			if (paraPositionData.isYtdOpenCostNull()) this.setYtdOpenCostNull();
+			this.setYtdRealized(paraPositionData.getYtdRealized());
+			if (paraPositionData.isYtdRealizedNull()) this.setYtdRealizedNull();
+			this.setYtdTrading(paraPositionData.getYtdTrading());
+			if (paraPositionData.isYtdTradingNull()) this.setYtdTradingNull();
+			this.setYtdUnrealized(paraPositionData.getYtdUnrealized());
+			if (paraPositionData.isYtdUnrealizedNull()) this.setYtdUnrealizedNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ParaPositionData other = (ParaPositionData) newData;
+			if ( isFasbObservableNull() != other.isFasbObservableNull() || getFasbObservable() != other.getFasbObservable())
+			{
+				return true;
+			}
+
+			if ( isQtdOpenCostNull() != other.isQtdOpenCostNull() || Math.abs(getQtdOpenCost() - other.getQtdOpenCost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isQtdRealizedNull() != other.isQtdRealizedNull() || Math.abs(getQtdRealized() - other.getQtdRealized()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isQtdTradingNull() != other.isQtdTradingNull() || Math.abs(getQtdTrading() - other.getQtdTrading()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isQtdUnrealizedNull() != other.isQtdUnrealizedNull() || Math.abs(getQtdUnrealized() - other.getQtdUnrealized()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isUpdatedNull() ? !getUpdated().equals(other.getUpdated()) : !other.isUpdatedNull())
+			{
+				return true;
+			}
+
+			if ( isYtdOpenCostNull() != other.isYtdOpenCostNull() || Math.abs(getYtdOpenCost() - other.getYtdOpenCost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isYtdRealizedNull() != other.isYtdRealizedNull() || Math.abs(getYtdRealized() - other.getYtdRealized()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isYtdTradingNull() != other.isYtdTradingNull() || Math.abs(getYtdTrading() - other.getYtdTrading()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isYtdUnrealizedNull() != other.isYtdUnrealizedNull() || Math.abs(getYtdUnrealized() - other.getYtdUnrealized()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ParaPositionDataOnHeap copy = new ParaPositionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ParaPositionDataOnHeap copy = new ParaPositionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountNumber: "+"'"+getAccountNumber()+"'"+ " / ";
+			result += "accountSubtype: "+(isAccountSubtypeNull() ? "null" : "'"+getAccountSubtype()+"'")+ " / ";
+			result += "businessDate: "+(isBusinessDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getBusinessDate().getTime()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "productIdentifier: "+"'"+getProductIdentifier()+"'"+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ParaPositionData otherData = (ParaPositionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ParaPositionData otherData = (ParaPositionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ParaPositionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			final ParaPositionData paraPositionData = (ParaPositionData) newData;
+			if (isAccountSubtypeNull() != paraPositionData.isAccountSubtypeNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ParaPositionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ParaPositionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ParaPositionData";
+		}
+	}
+}
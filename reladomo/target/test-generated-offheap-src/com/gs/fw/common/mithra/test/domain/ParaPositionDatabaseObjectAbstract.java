@@ -0,0 +1,769 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ParaPositionDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "QTD_OPEN_COST_F,YTD_OPEN_COST_F,QTD_UNREALIZED_F,YTD_UNREALIZED_F,QTD_REALIZED_F,YTD_REALIZED_F,QTD_TRADING_F,YTD_TRADING_F,OBSERVABLE_LEVEL_I,OBS_LVL_UPDATED_Z,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.QTD_OPEN_COST_F,t0.YTD_OPEN_COST_F,t0.QTD_UNREALIZED_F,t0.YTD_UNREALIZED_F,t0.QTD_REALIZED_F,t0.YTD_REALIZED_F,t0.QTD_TRADING_F,t0.YTD_TRADING_F,t0.OBSERVABLE_LEVEL_I,t0.OBS_LVL_UPDATED_Z,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.PRODUCT_IDENT_C = ? AND t0.ACCT_NBR_8DIGIT_C = ? AND t0.ACCT_SUBTYPE_C = ? AND t0.BUS_DATE_Z = ?";
+	private static final String PK_INDEX_COLS = "PRODUCT_IDENT_C,ACCT_NBR_8DIGIT_C,ACCT_SUBTYPE_C,BUS_DATE_Z";
+	protected ParaPositionDatabaseObjectAbstract()
+	{
+		super("ParaPosition", "com.gs.fw.common.mithra.test.domain.ParaPositionFinder",
+			16, 16,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, true, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParaPositionFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ParaPositionFinder.getFinderInstance();
+	}
+
+	public static ParaPositionData allocateOnHeapData()
+	{
+		return new ParaPositionData.ParaPositionDataOnHeap();
+	}
+
+	public static ParaPositionData allocateOffHeapData()
+	{
+		return new ParaPositionData.ParaPositionDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ParaPositionData.ParaPositionDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ParaPositionFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ParaPositionData data = new ParaPositionData.ParaPositionDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ParaPositionFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(ParaPositionData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.ParaPosition", ParaPositionFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("ParaPosition"));
+			ParaPositionData.ParaPositionDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(ParaPositionFinder.getPrimaryKeyAttributes(), ParaPositionFinder.getAsOfAttributes(), this, ParaPositionFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(ParaPositionFinder.getPrimaryKeyAttributes(), ParaPositionFinder.getAsOfAttributes(), this, ParaPositionFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(ParaPositionFinder.getPrimaryKeyAttributes(), ParaPositionFinder.getAsOfAttributes(), this, ParaPositionFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(ParaPositionFinder.getPrimaryKeyAttributes(), ParaPositionFinder.getAsOfAttributes(), this, ParaPositionFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(ParaPositionFinder.getPrimaryKeyAttributes(), ParaPositionFinder.getAsOfAttributes(), this, ParaPositionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(ParaPositionData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.ParaPosition", ParaPositionFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			ParaPositionData.ParaPositionDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(ParaPositionFinder.getPrimaryKeyAttributes(), ParaPositionFinder.getAsOfAttributes(), this, ParaPositionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(ParaPositionFinder.getPrimaryKeyAttributes(), ParaPositionFinder.getAsOfAttributes(), this, ParaPositionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ParaPositionFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ParaPositionFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ParaPosition.zConfigFullTx();
+		}
+		else
+		{
+			ParaPosition.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateParaPositionData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkParaPositionData(1, (ParaPositionData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateParaPositionPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getParaPositionTableName();
+	}
+
+	public String getParaPositionTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ParaPositionData data = (ParaPositionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (ParaPositionFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ParaPositionData data = (ParaPositionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getProductIdentifier());
+		stm.setString(pos++, data.getAccountNumber());
+		if( ! data.isAccountSubtypeNull())
+		{
+			stm.setString(pos++, data.getAccountSubtype());
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == ParaPositionFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (ParaPositionFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "PRODUCT_IDENT_C = ? AND ACCT_NBR_8DIGIT_C = ? AND ACCT_SUBTYPE_C = ? AND BUS_DATE_Z = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		ParaPositionData data = (ParaPositionData) dataObj;
+		StringBuffer result = new StringBuffer();
+		result.append(" PRODUCT_IDENT_C = ? ");
+		result.append(" AND ");
+		result.append(" ACCT_NBR_8DIGIT_C = ? ");
+		if( data.isAccountSubtypeNull())
+		{
+			result.append(" AND ");
+			result.append(" ACCT_SUBTYPE_C IS NULL ");
+		}
+		else
+		{
+			result.append(" AND ");
+			result.append(" ACCT_SUBTYPE_C = ? ");
+		}
+
+		result.append(" AND ");
+		result.append(" BUS_DATE_Z = ? ");
+		return result.toString();
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		ParaPositionData data = (ParaPositionData) dataObj;
+		StringBuilder result = new StringBuilder();
+		result.append(" t0.");
+		result.append("PRODUCT_IDENT_C = ? ");
+		result.append(" AND");
+		result.append(" t0.");
+		result.append("ACCT_NBR_8DIGIT_C = ? ");
+		if( data.isAccountSubtypeNull())
+		{
+			result.append(" AND");
+			result.append(" t0.");
+			result.append("ACCT_SUBTYPE_C IS NULL ");
+		}
+		else
+		{
+			result.append(" AND");
+			result.append(" t0.");
+			result.append("ACCT_SUBTYPE_C = ? ");
+		}
+
+		result.append(" AND");
+		result.append(" t0.");
+		result.append("BUS_DATE_Z = ? ");
+		return result.toString();
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.PRODUCT_IDENT_C,t0.ACCT_NBR_8DIGIT_C,t0.ACCT_SUBTYPE_C,t0.BUS_DATE_Z,t0.QTD_OPEN_COST_F,t0.YTD_OPEN_COST_F,t0.QTD_UNREALIZED_F,t0.YTD_UNREALIZED_F,t0.QTD_REALIZED_F,t0.YTD_REALIZED_F,t0.QTD_TRADING_F,t0.YTD_TRADING_F,t0.OBSERVABLE_LEVEL_I,t0.OBS_LVL_UPDATED_Z,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*16);
+		result.append(databaseAlias).append(".").append("PRODUCT_IDENT_C");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_NBR_8DIGIT_C");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_SUBTYPE_C");
+		result.append(",").append(databaseAlias).append(".").append("BUS_DATE_Z");
+		result.append(",").append(databaseAlias).append(".").append("QTD_OPEN_COST_F");
+		result.append(",").append(databaseAlias).append(".").append("YTD_OPEN_COST_F");
+		result.append(",").append(databaseAlias).append(".").append("QTD_UNREALIZED_F");
+		result.append(",").append(databaseAlias).append(".").append("YTD_UNREALIZED_F");
+		result.append(",").append(databaseAlias).append(".").append("QTD_REALIZED_F");
+		result.append(",").append(databaseAlias).append(".").append("YTD_REALIZED_F");
+		result.append(",").append(databaseAlias).append(".").append("QTD_TRADING_F");
+		result.append(",").append(databaseAlias).append(".").append("YTD_TRADING_F");
+		result.append(",").append(databaseAlias).append(".").append("OBSERVABLE_LEVEL_I");
+		result.append(",").append(databaseAlias).append(".").append("OBS_LVL_UPDATED_Z");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ParaPositionData inflateParaPositionData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ParaPositionData data = inflateParaPositionPkData(rs, dt);
+		inflateNonPkParaPositionData(5, data, rs, dt);
+		return data;
+	}
+
+	public ParaPositionData inflateParaPositionPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ParaPositionData _data = new ParaPositionData.ParaPositionDataOnHeap();
+		int _pos = 1;
+		_data.setProductIdentifier(trimString(_rs.getString(_pos++)));
+		_data.setAccountNumber(trimString(_rs.getString(_pos++)));
+		_data.setAccountSubtype(trimString(_rs.getString(_pos++)));
+		Timestamp businessDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setBusinessDate(businessDatetimestampValue);
+		return _data;
+	}
+
+	public void inflateNonPkParaPositionData(int _pos, ParaPositionData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ParaPositionData _data = _datax;
+			_data.setQtdOpenCost(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setQtdOpenCostNull();
+			}
+
+			_data.setYtdOpenCost(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setYtdOpenCostNull();
+			}
+
+			_data.setQtdUnrealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setQtdUnrealizedNull();
+			}
+
+			_data.setYtdUnrealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setYtdUnrealizedNull();
+			}
+
+			_data.setQtdRealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setQtdRealizedNull();
+			}
+
+			_data.setYtdRealized(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setYtdRealizedNull();
+			}
+
+			_data.setQtdTrading(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setQtdTradingNull();
+			}
+
+			_data.setYtdTrading(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setYtdTradingNull();
+			}
+
+			_data.setFasbObservable(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFasbObservableNull();
+			}
+
+			Timestamp updatedtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setUpdated(updatedtimestampValue);
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				ParaPositionFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getParaPositionTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "PARA_POSITION";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ParaPositionData data = (ParaPositionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isProductIdentifierNull())
+		{
+			throwNullAttribute("productIdentifier");
+		}
+
+		stm.setString(pos++, data.getProductIdentifier());
+		if(data.isAccountNumberNull())
+		{
+			throwNullAttribute("accountNumber");
+		}
+
+		stm.setString(pos++, data.getAccountNumber());
+		if (data.isAccountSubtypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAccountSubtype());
+		}
+
+		if(data.isBusinessDateNull())
+		{
+			throwNullAttribute("businessDate");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		if (data.isQtdOpenCostNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getQtdOpenCost());
+		}
+
+		if (data.isYtdOpenCostNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getYtdOpenCost());
+		}
+
+		if (data.isQtdUnrealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getQtdUnrealized());
+		}
+
+		if (data.isYtdUnrealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getYtdUnrealized());
+		}
+
+		if (data.isQtdRealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getQtdRealized());
+		}
+
+		if (data.isYtdRealizedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getYtdRealized());
+		}
+
+		if (data.isQtdTradingNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getQtdTrading());
+		}
+
+		if (data.isYtdTradingNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getYtdTrading());
+		}
+
+		if (data.isFasbObservableNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getFasbObservable());
+		}
+
+		if (data.isUpdatedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getUpdated(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == ParaPositionFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "PRODUCT_IDENT_C,ACCT_NBR_8DIGIT_C,ACCT_SUBTYPE_C,BUS_DATE_Z,QTD_OPEN_COST_F,YTD_OPEN_COST_F,QTD_UNREALIZED_F,YTD_UNREALIZED_F,QTD_REALIZED_F,YTD_REALIZED_F,QTD_TRADING_F,YTD_TRADING_F,OBSERVABLE_LEVEL_I,OBS_LVL_UPDATED_Z,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		ParaPosition newObject = new ParaPosition(asOfDates[0]
+		);
+		newObject.zSetFromParaPositionData((ParaPositionData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new AuditOnlyTransactionalDataContainer(tx.getPerPortalTemporalContainer(ParaPositionFinder.getMithraObjectPortal(),
+			ParaPositionFinder.processingDate())
+		);
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ParaPositionData data = (ParaPositionData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getProductIdentifier());
+		stm.setString(pos++, data.getAccountNumber());
+		if( ! data.isAccountSubtypeNull())
+		{
+			stm.setString(pos++, data.getAccountSubtype());
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		throw new RuntimeException("not implemented");
+	}
+}
@@ -0,0 +1,308 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ParaProductAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ParaProduct.class.getName());
+	public ParaProductAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ParaProduct getDetachedCopy() throws MithraBusinessException
+	{
+		return (ParaProduct) super.getDetachedCopy();
+	}
+
+	public ParaProduct getNonPersistentCopy() throws MithraBusinessException
+	{
+		ParaProduct result = (ParaProduct) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ParaProduct copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ParaProduct) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ParaProduct zFindOriginal()
+	{
+		ParaProductData data = (ParaProductData) this.currentData;
+		Operation op;
+		op = ParaProductFinder.productId().eq(data.getProductId());
+		op = op.and(ParaProductFinder.acmapCode().eq(data.getAcmapCode()));
+		return ParaProductFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ParaProductData();
+	}
+
+	protected void zSetFromParaProductData( ParaProductData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromParaProductData( ParaProductData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return ((ParaProductData) this.zSynchronizedGetData()).isAcmapCodeNull();
+	}
+
+	public String getAcmapCode()
+	{
+		ParaProductData data = (ParaProductData) this.zSynchronizedGetData();
+		return data.getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ParaProductFinder.acmapCode(), newValue, false, false );
+	}
+
+	public boolean isCusipNull()
+	{
+		return ((ParaProductData) this.zSynchronizedGetData()).isCusipNull();
+	}
+
+	public String getCusip()
+	{
+		ParaProductData data = (ParaProductData) this.zSynchronizedGetData();
+		return data.getCusip();
+	}
+
+	public void setCusip(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'cusip' cannot exceed maximum length of 15: " + newValue);
+		zSetString(ParaProductFinder.cusip(), newValue, false, false );
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((ParaProductData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		ParaProductData data = (ParaProductData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 30: " + newValue);
+		zSetString(ParaProductFinder.description(), newValue, false, false );
+	}
+
+	public boolean isGsnNull()
+	{
+		return ((ParaProductData) this.zSynchronizedGetData()).isGsnNull();
+	}
+
+	public String getGsn()
+	{
+		ParaProductData data = (ParaProductData) this.zSynchronizedGetData();
+		return data.getGsn();
+	}
+
+	public void setGsn(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'gsn' cannot exceed maximum length of 15: " + newValue);
+		zSetString(ParaProductFinder.gsn(), newValue, false, false );
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((ParaProductData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		ParaProductData data = (ParaProductData) this.zSynchronizedGetData();
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(ParaProductFinder.productId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ParaProductData _newData = (ParaProductData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ParaProductData _newData = (ParaProductData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ParaProductData _newData = (ParaProductData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ParaProduct zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ParaProduct original = (ParaProduct) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ParaProductFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ParaProductFinder.getMithraObjectPortal();
+	}
+
+	public ParaProduct getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ParaProductFinder.cusip(), false);
+		changed |= zUpdateString(behavior, data, newData, ParaProductFinder.description(), false);
+		changed |= zUpdateString(behavior, data, newData, ParaProductFinder.gsn(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ParaProductFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ParaProductFinder.productId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ParaProductAbstract result = (ParaProductAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
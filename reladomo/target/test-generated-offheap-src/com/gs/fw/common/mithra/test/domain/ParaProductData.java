@@ -0,0 +1,379 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ParaProductData
+implements MithraDataObject
+{
+	private String acmapCode;
+	private String cusip;
+	private String description;
+	private String gsn;
+	private int productId;
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isCusipNull()
+	{
+		return this.getCusip() == null;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isGsnNull()
+	{
+		return this.getGsn() == null;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.acmapCode);
+		out.writeObject(this.cusip);
+		out.writeObject(this.description);
+		out.writeObject(this.gsn);
+		out.writeInt(this.productId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public int zGetAcmapCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(acmapCode);
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, ParaProductFinder.isFullCache());
+	}
+
+	public void setAcmapCodeNull()
+	{
+		this.setAcmapCode(null);
+	}
+
+	public String getCusip()
+	{
+		return this.cusip;
+	}
+
+	public int zGetCusipAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(cusip);
+	}
+
+	public void setCusip(String value)
+	{
+		this.cusip = StringPool.getInstance().getOrAddToCache(value, ParaProductFinder.isFullCache());
+	}
+
+	public void setCusipNull()
+	{
+		this.setCusip(null);
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, ParaProductFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public String getGsn()
+	{
+		return this.gsn;
+	}
+
+	public int zGetGsnAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(gsn);
+	}
+
+	public void setGsn(String value)
+	{
+		this.gsn = StringPool.getInstance().getOrAddToCache(value, ParaProductFinder.isFullCache());
+	}
+
+	public void setGsnNull()
+	{
+		this.setGsn(null);
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+	}
+
+	public void setProductIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(ParaProductData copy, boolean withRelationships)
+	{
+		copy.acmapCode = this.acmapCode;
+		copy.cusip = this.cusip;
+		copy.description = this.description;
+		copy.gsn = this.gsn;
+		copy.productId = this.productId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaProductFinder.isFullCache());
+		this.cusip = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaProductFinder.isFullCache());
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaProductFinder.isFullCache());
+		this.gsn = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaProductFinder.isFullCache());
+		this.productId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ParaProductData otherData = (ParaProductData) other;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+		{
+			return false;
+		}
+
+		if (getProductId() != otherData.getProductId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.acmapCode);
+		out.writeInt(this.productId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaProductFinder.isFullCache());
+		this.productId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ParaProductData paraProductData = (ParaProductData) newData;
+		this.setAcmapCode(paraProductData.getAcmapCode());
+		this.setCusip(paraProductData.getCusip());
+		this.setDescription(paraProductData.getDescription());
+		this.setGsn(paraProductData.getGsn());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ParaProductData other = (ParaProductData) newData;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		if (!isCusipNull() ? !getCusip().equals(other.getCusip()) : !other.isCusipNull())
+		{
+			return true;
+		}
+
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isGsnNull() ? !getGsn().equals(other.getGsn()) : !other.isGsnNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ParaProductData copy = new ParaProductData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ParaProductData copy = new ParaProductData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+		result += "productId: "+(""+getProductId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ParaProductData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ParaProductFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ParaProductFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ParaProductData";
+	}
+}
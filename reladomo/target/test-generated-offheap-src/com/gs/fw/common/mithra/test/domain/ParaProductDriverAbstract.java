@@ -0,0 +1,281 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ParaProductDriverAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private MithraObjectPortal portal;
+	private static final Logger logger = LoggerFactory.getLogger(ParaProductDriver.class.getName());
+	public ParaProductDriverAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ParaProductDriver getDetachedCopy() throws MithraBusinessException
+	{
+		return (ParaProductDriver) super.getDetachedCopy();
+	}
+
+	public ParaProductDriver getNonPersistentCopy() throws MithraBusinessException
+	{
+		ParaProductDriver result = (ParaProductDriver) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ParaProductDriver copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ParaProductDriver) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ParaProductDriver zFindOriginal()
+	{
+		ParaProductDriverData data = (ParaProductDriverData) this.currentData;
+		Operation op;
+		op = ParaProductDriverFinder.gsn().eq(data.getGsn());
+		op = op.and(ParaProductDriverFinder.cusip().eq(data.getCusip()));
+		op = op.and(ParaProductDriverFinder.acmapCode().eq(data.getAcmapCode()));
+		return ParaProductDriverFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ParaProductDriverData();
+	}
+
+	protected void zSetFromParaProductDriverData( ParaProductDriverData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromParaProductDriverData( ParaProductDriverData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return ((ParaProductDriverData) this.zSynchronizedGetData()).isAcmapCodeNull();
+	}
+
+	public String getAcmapCode()
+	{
+		ParaProductDriverData data = (ParaProductDriverData) this.zSynchronizedGetData();
+		return data.getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ParaProductDriverFinder.acmapCode(), newValue, false, false );
+	}
+
+	public boolean isCusipNull()
+	{
+		return ((ParaProductDriverData) this.zSynchronizedGetData()).isCusipNull();
+	}
+
+	public String getCusip()
+	{
+		ParaProductDriverData data = (ParaProductDriverData) this.zSynchronizedGetData();
+		return data.getCusip();
+	}
+
+	public void setCusip(String newValue)
+	{
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'cusip' cannot exceed maximum length of 15: " + newValue);
+		zSetString(ParaProductDriverFinder.cusip(), newValue, true, false );
+	}
+
+	public boolean isGsnNull()
+	{
+		return ((ParaProductDriverData) this.zSynchronizedGetData()).isGsnNull();
+	}
+
+	public String getGsn()
+	{
+		ParaProductDriverData data = (ParaProductDriverData) this.zSynchronizedGetData();
+		return data.getGsn();
+	}
+
+	public void setGsn(String newValue)
+	{
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'gsn' cannot exceed maximum length of 15: " + newValue);
+		zSetString(ParaProductDriverFinder.gsn(), newValue, true, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ParaProductDriverData _newData = (ParaProductDriverData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ParaProductDriverData _newData = (ParaProductDriverData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ParaProductDriverData _newData = (ParaProductDriverData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ParaProductDriver zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ParaProductDriver original = (ParaProductDriver) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		if (this.portal == null)
+		{
+			this.portal = ParaProductDriverFinder.getMithraObjectPortal();
+		}
+
+		return this.portal.getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		if (this.portal == null)
+		{
+			this.portal = ParaProductDriverFinder.getMithraObjectPortal();
+		}
+
+		return this.portal;
+	}
+
+	public ParaProductDriver getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ParaProductDriverFinder.acmapCode(), false);
+		changed |= zUpdateString(behavior, data, newData, ParaProductDriverFinder.cusip(), false);
+		changed |= zUpdateString(behavior, data, newData, ParaProductDriverFinder.gsn(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ParaProductDriverAbstract result = (ParaProductDriverAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
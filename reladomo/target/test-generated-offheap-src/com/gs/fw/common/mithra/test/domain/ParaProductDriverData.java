@@ -0,0 +1,316 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ParaProductDriverData
+implements MithraDataObject
+{
+	private String acmapCode;
+	private String cusip;
+	private String gsn;
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isCusipNull()
+	{
+		return this.getCusip() == null;
+	}
+
+	public boolean isGsnNull()
+	{
+		return this.getGsn() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.acmapCode);
+		out.writeObject(this.cusip);
+		out.writeObject(this.gsn);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public int zGetAcmapCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(acmapCode);
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, ParaProductDriverFinder.isFullCache());
+	}
+
+	public void setAcmapCodeNull()
+	{
+		this.setAcmapCode(null);
+	}
+
+	public String getCusip()
+	{
+		return this.cusip;
+	}
+
+	public int zGetCusipAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(cusip);
+	}
+
+	public void setCusip(String value)
+	{
+		this.cusip = value;
+	}
+
+	public void setCusipNull()
+	{
+		this.setCusip(null);
+	}
+
+	public String getGsn()
+	{
+		return this.gsn;
+	}
+
+	public int zGetGsnAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(gsn);
+	}
+
+	public void setGsn(String value)
+	{
+		this.gsn = value;
+	}
+
+	public void setGsnNull()
+	{
+		this.setGsn(null);
+	}
+
+	protected void copyInto(ParaProductDriverData copy, boolean withRelationships)
+	{
+		copy.acmapCode = this.acmapCode;
+		copy.cusip = this.cusip;
+		copy.gsn = this.gsn;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaProductDriverFinder.isFullCache());
+		this.cusip = (String)in.readObject();
+		this.gsn = (String)in.readObject();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ParaProductDriverData otherData = (ParaProductDriverData) other;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+		{
+			return false;
+		}
+
+		if (!isCusipNull() ? !getCusip().equals(otherData.getCusip()) : !otherData.isCusipNull())
+		{
+			return false;
+		}
+
+		if (!isGsnNull() ? !getGsn().equals(otherData.getGsn()) : !otherData.isGsnNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.acmapCode);
+		out.writeObject(this.cusip);
+		out.writeObject(this.gsn);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaProductDriverFinder.isFullCache());
+		this.cusip = (String)in.readObject();
+		this.gsn = (String)in.readObject();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ParaProductDriverData paraProductDriverData = (ParaProductDriverData) newData;
+		this.setAcmapCode(paraProductDriverData.getAcmapCode());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ParaProductDriverData other = (ParaProductDriverData) newData;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ParaProductDriverData copy = new ParaProductDriverData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ParaProductDriverData copy = new ParaProductDriverData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+		result += "cusip: "+"'"+getCusip()+"'"+ " / ";
+		result += "gsn: "+"'"+getGsn()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ParaProductDriverData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ParaProductDriverFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ParaProductDriverFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ParaProductDriverData";
+	}
+}
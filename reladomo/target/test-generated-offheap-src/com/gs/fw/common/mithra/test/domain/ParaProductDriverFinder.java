@@ -0,0 +1,680 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.fw.common.mithra.tempobject.*;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ParaProductDriverFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ParaProductDriver";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ParaProductDriver";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ParaProductDriver");
+	private static final ParaProductDriverSingleFinder<ParaProductDriver, Object, ParaProductDriver> finder = new ParaProductDriverSingleFinder<ParaProductDriver, Object, ParaProductDriver>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static TempContextContainer tempContextContainer = new TempContextContainer("com.gs.fw.common.mithra.test.domain.ParaProductDriver");
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ParaProductDriverFinder.ParaProductDriverRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("gsn");
+		finderMethodMap.addNormalAttributeName("cusip");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return ParaProductDriverFinder.zSourceAttributeType;
+	}
+
+	public static ParaProductDriver findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ParaProductDriver findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ParaProductDriverList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ParaProductDriverList) finder.findMany(operation);
+	}
+
+	public static ParaProductDriverList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ParaProductDriverList) finder.findManyBypassCache(operation);
+	}
+
+	private static ParaProductDriver findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ParaProductDriver) FinderUtils.findOne(found);
+	}
+
+	public static ParaProductDriver findByPrimaryKey(String gsn, String cusip, String acmapCode)
+	{
+		return finder.findByPrimaryKey(gsn, cusip, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ParaProductDriverData _castedTargetData = (ParaProductDriverData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getGsn()) && _bean.getO2AsString().equals(_castedTargetData.getCusip()) && _bean.getO3AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.offHeapHash(_bean.getO3AsString()));
+		}
+	}
+
+	public static ParaProductDriver zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ParaProductDriver) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return tempContextContainer.getMithraObjectPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		FinderUtils.clearTempObjectQueryCache(tempContextContainer);
+	}
+
+	public static void reloadCache()
+	{
+	}
+
+	public static class ParaProductDriverRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ParaProductDriver, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return ParaProductDriverFinder.zSourceAttributeType;
+		}
+
+		private StringAttribute<ParentOwnerType> gsn;
+		private StringAttribute<ParentOwnerType> cusip;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		public ParaProductDriverRelatedFinder()
+		{
+			super();
+		}
+
+		public ParaProductDriverRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ParaProductDriverFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ParaProductDriverFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ParaProductDriverFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ParaProductDriverFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.gsn();
+			attributes[1] = this.cusip();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ParaProductDriver findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ParaProductDriverFinder.findOne(operation, false);
+		}
+
+		public ParaProductDriver findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ParaProductDriverFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ParaProductDriver> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ParaProductDriverList((Operation) operation);
+		}
+
+		public MithraList<? extends ParaProductDriver> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ParaProductDriverList result = (ParaProductDriverList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ParaProductDriver> constructEmptyList()
+		{
+			return new ParaProductDriverList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1768312462;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return true;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return ParaProductDriverFinder.zSourceAttributeType;
+		}
+
+		public StringAttribute<ParentOwnerType> gsn()
+		{
+			StringAttribute<ParentOwnerType> result = this.gsn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("G0","","gsn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,15,false, false) :
+					new MappedStringAttribute(ParaProductDriverFinder.gsn(), this.mapper, this.zGetValueSelector());
+				this.gsn = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> cusip()
+		{
+			StringAttribute<ParentOwnerType> result = this.cusip;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("C0","","cusip",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,15,false, false) :
+					new MappedStringAttribute(ParaProductDriverFinder.cusip(), this.mapper, this.zGetValueSelector());
+				this.cusip = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(ParaProductDriverFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return ParaProductDriverFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ParaProductDriverFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ParaProductDriverFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ParaProductDriverCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ParaProductDriverRelatedFinder<ParentOwnerType, ReturnType, ParaProductDriverList, OwnerType>
+	{
+		public ParaProductDriverCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ParaProductDriverCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ParaProductDriverCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParaProductDriverCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ParaProductDriverSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ParaProductDriverRelatedFinder<ParentOwnerType, ReturnType, ParaProductDriverList, OwnerType>
+	implements ToOneFinder
+	{
+		public ParaProductDriverSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ParaProductDriverSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ParaProductDriver other)
+		{
+			return this.gsn().eq(other.getGsn())
+			.and(this.cusip().eq(other.getCusip()))
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ParaProductDriver findByPrimaryKey(String gsn, String cusip, String acmapCode)
+		{
+			ParaProductDriver _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (gsn != null && cusip != null && acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(gsn);
+				_bean.setO2(cusip);
+				_bean.setO3(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ParaProductDriver) _related;
+			if (_related == null)
+			{
+				_op = this.gsn().eq(gsn).and(this.cusip().eq(cusip)).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ParaProductDriverSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ParaProductDriverSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParaProductDriverSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to null.G0 **/
+	public static StringAttribute<ParaProductDriver> gsn()
+	{
+		return finder.gsn();
+	}
+
+	/** maps to null.C0 **/
+	public static StringAttribute<ParaProductDriver> cusip()
+	{
+		return finder.cusip();
+	}
+
+	public static StringAttribute<ParaProductDriver> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static Operation eq(ParaProductDriver other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(gsn());
+	}
+
+	public static ParaProductDriverSingleFinder<ParaProductDriver, Object, ParaProductDriver> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			gsn()
+			, cusip()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			gsn()
+			, gsn()
+			, cusip()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ParaProductDriver");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTempConfig(MithraConfigurationManager.TempObjectConfig config)
+	{
+		tempContextContainer.setTempConfig(config);
+	}
+
+	public static TemporaryContext createTemporaryContext(String acmapCode)
+	{
+		return tempContextContainer.createTemporaryContext(acmapCode);
+	}
+
+	public static Operation existsWithJoin(
+		StringAttribute joinedAcmapCode,
+		StringAttribute joinedGsn
+	, StringAttribute joinedCusip
+	)
+	{
+		return MappedOperation.createExists(
+			new Attribute[] 
+		{
+			acmapCode(),
+				gsn()
+			, cusip()
+		}
+
+		, joinedAcmapCode
+		, joinedGsn
+		, joinedCusip
+		);
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
@@ -0,0 +1,140 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ParaProductDriverListAbstract extends DelegatingList<ParaProductDriver> implements MithraTransactionalList<ParaProductDriver>
+{
+	public ParaProductDriverListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ParaProductDriverListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ParaProductDriverListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ParaProductDriverListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ParaProductDriver[] elements()
+	{
+		ParaProductDriver[] result = new ParaProductDriver[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ParaProductDriverList intersection(ParaProductDriverList another)
+	{
+		return (ParaProductDriverList)super.intersection(another);
+	}
+
+	public ParaProductDriver getParaProductDriverAt(int index)
+	{
+		return (ParaProductDriver)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParaProductDriverFinder.getMithraObjectPortal();
+	}
+
+	public ParaProductDriverList getNonPersistentCopy()
+	{
+		ParaProductDriverList result = new ParaProductDriverList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ParaProductDriverList asAdhoc()
+	{
+		return (ParaProductDriverList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ParaProductDriver> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ParaProductDriverList merge(MithraTransactionalList<ParaProductDriver> incoming, TopLevelMergeOptions<ParaProductDriver> mergeOptions)
+	{
+		return (ParaProductDriverList) super.merge(incoming, mergeOptions);
+	}
+
+	public ParaProductDriverList getDetachedCopy()
+	{
+		ParaProductDriverList result = new ParaProductDriverList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setGsn(String newValue)
+	{
+		zSetString(ParaProductDriverFinder.gsn(), newValue);
+	}
+
+	public void setCusip(String newValue)
+	{
+		zSetString(ParaProductDriverFinder.cusip(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ParaProductDriverFinder.acmapCode(), newValue);
+	}
+}
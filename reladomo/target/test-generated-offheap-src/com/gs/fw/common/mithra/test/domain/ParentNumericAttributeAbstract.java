@@ -0,0 +1,603 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ParentNumericAttributeAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private BigDecimal bigDecimalAttr;
+	private byte byteAttr;
+	private char charAttr;
+	private double doubleAttr;
+	private float floatAttr;
+	private int id;
+	private int intAttr;
+	private long longAttr;
+	private short shortAttr;
+	private int userId;
+	private BigDecimal veryBigDecimalAttr;
+	public boolean isBigDecimalAttrNull()
+	{
+		return this.getBigDecimalAttr() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isVeryBigDecimalAttrNull()
+	{
+		return this.getVeryBigDecimalAttr() == null;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isDoubleAttrNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isFloatAttrNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isLongAttrNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isIntAttrNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isShortAttrNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isByteAttrNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isCharAttrNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.bigDecimalAttr);
+		out.writeByte(this.byteAttr);
+		out.writeChar(this.charAttr);
+		out.writeDouble(this.doubleAttr);
+		out.writeFloat(this.floatAttr);
+		out.writeInt(this.id);
+		out.writeInt(this.intAttr);
+		out.writeLong(this.longAttr);
+		out.writeShort(this.shortAttr);
+		out.writeInt(this.userId);
+		out.writeObject(this.veryBigDecimalAttr);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ParentNumericAttributeData data = new ParentNumericAttributeData();
+		data.setBigDecimalAttr(bigDecimalAttr);
+		data.setByteAttr(byteAttr);
+		data.setCharAttr(charAttr);
+		data.setDoubleAttr(doubleAttr);
+		data.setFloatAttr(floatAttr);
+		data.setId(id);
+		data.setIntAttr(intAttr);
+		data.setLongAttr(longAttr);
+		data.setShortAttr(shortAttr);
+		data.setUserId(userId);
+		data.setVeryBigDecimalAttr(veryBigDecimalAttr);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public ParentNumericAttribute getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ParentNumericAttributeAbstract copy = (ParentNumericAttributeAbstract) ParentNumericAttributeFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ParentNumericAttribute)copy;
+	}
+
+	protected void zSetFromParentNumericAttributeData(ParentNumericAttributeData data)
+	{
+		this.setFromParentNumericAttributeData(data);
+	}
+
+	public void setFromParentNumericAttributeData(ParentNumericAttributeData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		bigDecimalAttr = data.getBigDecimalAttr();
+		byteAttr = data.getByteAttr();
+		charAttr = data.getCharAttr();
+		doubleAttr = data.getDoubleAttr();
+		floatAttr = data.getFloatAttr();
+		id = data.getId();
+		intAttr = data.getIntAttr();
+		longAttr = data.getLongAttr();
+		shortAttr = data.getShortAttr();
+		userId = data.getUserId();
+		veryBigDecimalAttr = data.getVeryBigDecimalAttr();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ParentNumericAttributeFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromParentNumericAttributeData((ParentNumericAttributeData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public BigDecimal getBigDecimalAttr()
+	{
+		return this.bigDecimalAttr;
+	}
+
+	public void setBigDecimalAttr(BigDecimal value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.bigDecimalAttr = value;
+	}
+
+	public byte getByteAttr()
+	{
+		if (isByteAttrNull()) throwNullPrimitiveException("byteAttr");
+		return this.byteAttr;
+	}
+
+	public void setByteAttr(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.byteAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public char getCharAttr()
+	{
+		if (isCharAttrNull()) throwNullPrimitiveException("charAttr");
+		return this.charAttr;
+	}
+
+	public void setCharAttr(char value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.charAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	public double getDoubleAttr()
+	{
+		if (isDoubleAttrNull()) throwNullPrimitiveException("doubleAttr");
+		return this.doubleAttr;
+	}
+
+	public void setDoubleAttr(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.doubleAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public float getFloatAttr()
+	{
+		if (isFloatAttrNull()) throwNullPrimitiveException("floatAttr");
+		return this.floatAttr;
+	}
+
+	public void setFloatAttr(float value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.floatAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public int getIntAttr()
+	{
+		if (isIntAttrNull()) throwNullPrimitiveException("intAttr");
+		return this.intAttr;
+	}
+
+	public void setIntAttr(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.intAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public long getLongAttr()
+	{
+		if (isLongAttrNull()) throwNullPrimitiveException("longAttr");
+		return this.longAttr;
+	}
+
+	public void setLongAttr(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.longAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public short getShortAttr()
+	{
+		if (isShortAttrNull()) throwNullPrimitiveException("shortAttr");
+		return this.shortAttr;
+	}
+
+	public void setShortAttr(short value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.shortAttr = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public int getUserId()
+	{
+		if (isUserIdNull()) throwNullPrimitiveException("userId");
+		return this.userId;
+	}
+
+	public void setUserId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.userId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public BigDecimal getVeryBigDecimalAttr()
+	{
+		return this.veryBigDecimalAttr;
+	}
+
+	public void setVeryBigDecimalAttr(BigDecimal value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.veryBigDecimalAttr = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setUserIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setDoubleAttrNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setFloatAttrNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setLongAttrNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setIntAttrNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setShortAttrNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setByteAttrNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+	}
+
+	public void setCharAttrNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 7);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = ChildNumericAttribute.parentId</pre>
+	* @see ChildNumericAttribute#getParent() reverse relationship ChildNumericAttribute.getParent()
+	* @return children
+	*/
+	public ChildNumericAttributeList getChildren()
+	{
+		ChildNumericAttributeList _result = null;
+		if (_relationships != null)
+		{
+			_result = (ChildNumericAttributeList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new ChildNumericAttributeList(zGetChildrenOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setChildren(ChildNumericAttributeList children)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = children;
+	}
+
+	public Operation zGetChildrenOperation()
+	{
+		ParentNumericAttributeAbstract _data = this;
+		return ChildNumericAttributeFinder.parentId().eq(_data.getId());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ParentNumericAttributeData parentNumericAttributeData = (ParentNumericAttributeData) newData;
+		if (isNullBits0 != parentNumericAttributeData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (!isBigDecimalAttrNull() ? !getBigDecimalAttr().equals(parentNumericAttributeData.getBigDecimalAttr()) : !parentNumericAttributeData.isBigDecimalAttrNull())
+		{
+			return true;
+		}
+
+		if (byteAttr != parentNumericAttributeData.getByteAttr())
+		{
+			return true;
+		}
+
+		if (charAttr != parentNumericAttributeData.getCharAttr())
+		{
+			return true;
+		}
+
+		if (doubleAttr != parentNumericAttributeData.getDoubleAttr())
+		{
+			return true;
+		}
+
+		if (floatAttr != parentNumericAttributeData.getFloatAttr())
+		{
+			return true;
+		}
+
+		if (intAttr != parentNumericAttributeData.getIntAttr())
+		{
+			return true;
+		}
+
+		if (longAttr != parentNumericAttributeData.getLongAttr())
+		{
+			return true;
+		}
+
+		if (shortAttr != parentNumericAttributeData.getShortAttr())
+		{
+			return true;
+		}
+
+		if (userId != parentNumericAttributeData.getUserId())
+		{
+			return true;
+		}
+
+		if (!isVeryBigDecimalAttrNull() ? !getVeryBigDecimalAttr().equals(parentNumericAttributeData.getVeryBigDecimalAttr()) : !parentNumericAttributeData.isVeryBigDecimalAttrNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.bigDecimalAttr = (BigDecimal)in.readObject();
+			this.byteAttr = in.readByte();
+			this.charAttr = in.readChar();
+			this.doubleAttr = in.readDouble();
+			this.floatAttr = in.readFloat();
+			this.id = in.readInt();
+			this.intAttr = in.readInt();
+			this.longAttr = in.readLong();
+			this.shortAttr = in.readShort();
+			this.userId = in.readInt();
+			this.veryBigDecimalAttr = (BigDecimal)in.readObject();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ParentNumericAttributeFinder.id().eq(this.getId());
+			return ParentNumericAttributeFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,425 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ParentNumericAttributeDatabaseObjectAbstract extends MithraAbstractDatabaseObject implements MithraDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "USER_ID,DOUBLE_ATTR,FLOAT_ATTR,LONG_ATTR,INT_ATTR,SHORT_ATTR,BYTE_ATTR,CHAR_ATTR,BIG_DECIMAL_ATTR,VERY_BIG_DECIMAL_ATTR";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.USER_ID,t0.DOUBLE_ATTR,t0.FLOAT_ATTR,t0.LONG_ATTR,t0.INT_ATTR,t0.SHORT_ATTR,t0.BYTE_ATTR,t0.CHAR_ATTR,t0.BIG_DECIMAL_ATTR,t0.VERY_BIG_DECIMAL_ATTR";
+	private static final String PK_WITH_ALIAS = "t0.ID = ?";
+	private static final String PK_INDEX_COLS = "ID";
+	protected ParentNumericAttributeDatabaseObjectAbstract()
+	{
+		super("ParentNumericAttribute", "com.gs.fw.common.mithra.test.domain.ParentNumericAttributeFinder",
+			11, 11,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParentNumericAttributeFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ParentNumericAttributeFinder.getFinderInstance();
+	}
+
+	public static ParentNumericAttributeData allocateOnHeapData()
+	{
+		return new ParentNumericAttributeData();
+	}
+
+	public static ParentNumericAttributeData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ParentNumericAttributeData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ParentNumericAttributeData data = new ParentNumericAttributeData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new FullNonDatedCache(ParentNumericAttributeFinder.getPrimaryKeyAttributes(), this, ParentNumericAttributeFinder.getImmutableAttributes());
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new PartialNonDatedCache(ParentNumericAttributeFinder.getPrimaryKeyAttributes(), this, ParentNumericAttributeFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ParentNumericAttributeFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ParentNumericAttributeFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateParentNumericAttributeData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkParentNumericAttributeData(1, (ParentNumericAttributeData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateParentNumericAttributePkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getParentNumericAttributeTableName();
+	}
+
+	public String getParentNumericAttributeTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ParentNumericAttributeData data = (ParentNumericAttributeData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ID,t0.USER_ID,t0.DOUBLE_ATTR,t0.FLOAT_ATTR,t0.LONG_ATTR,t0.INT_ATTR,t0.SHORT_ATTR,t0.BYTE_ATTR,t0.CHAR_ATTR,t0.BIG_DECIMAL_ATTR,t0.VERY_BIG_DECIMAL_ATTR";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*11);
+		result.append(databaseAlias).append(".").append("ID");
+		result.append(",").append(databaseAlias).append(".").append("USER_ID");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_ATTR");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_ATTR");
+		result.append(",").append(databaseAlias).append(".").append("LONG_ATTR");
+		result.append(",").append(databaseAlias).append(".").append("INT_ATTR");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_ATTR");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_ATTR");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_ATTR");
+		result.append(",").append(databaseAlias).append(".").append("BIG_DECIMAL_ATTR");
+		result.append(",").append(databaseAlias).append(".").append("VERY_BIG_DECIMAL_ATTR");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ParentNumericAttributeData inflateParentNumericAttributeData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ParentNumericAttributeData data = inflateParentNumericAttributePkData(rs, dt);
+		inflateNonPkParentNumericAttributeData(2, data, rs, dt);
+		return data;
+	}
+
+	public ParentNumericAttributeData inflateParentNumericAttributePkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ParentNumericAttributeData _data = new ParentNumericAttributeData();
+		int _pos = 1;
+		_data.setId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "id");
+		return _data;
+	}
+
+	public void inflateNonPkParentNumericAttributeData(int _pos, ParentNumericAttributeData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ParentNumericAttributeData _data = _datax;
+			_data.setUserId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUserIdNull();
+			}
+
+			_data.setDoubleAttr(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDoubleAttrNull();
+			}
+
+			_data.setFloatAttr(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFloatAttrNull();
+			}
+
+			_data.setLongAttr(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setLongAttrNull();
+			}
+
+			_data.setIntAttr(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setIntAttrNull();
+			}
+
+			_data.setShortAttr(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setShortAttrNull();
+			}
+
+			_data.setByteAttr(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setByteAttrNull();
+			}
+
+			String charAttrCharValue = _rs.getString(_pos++);
+			boolean charAttrCharValueisNull = charAttrCharValue == null || charAttrCharValue.length() < 1;
+			if(!charAttrCharValueisNull)
+			{
+				if(charAttrCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(charAttrCharValue.length() == 1)
+				{
+					_data.setCharAttr(charAttrCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setCharAttrNull();
+			}
+
+			_data.setBigDecimalAttr(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 5, 2));
+			_data.setVeryBigDecimalAttr(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 28, 0));
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "PARENT_NUM_ATTR";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ParentNumericAttribute newObject = new ParentNumericAttribute();
+		newObject.zSetFromParentNumericAttributeData((ParentNumericAttributeData) newData);
+		return newObject;
+	}
+
+	public void analyzeChangeForReload(PrimaryKeyIndex fullUniqueIndex, MithraDataObject data, List newDataList, List updatedDataList)
+	{
+		ParentNumericAttribute object = fullUniqueIndex == null ? null : (ParentNumericAttribute) fullUniqueIndex.removeUsingUnderlying(data);
+		if (object == null)
+		{
+			newDataList.add(createObject(data));
+		}
+		else
+		{
+			if (object.zChanged(data))
+			{
+				updatedDataList.add(data);
+			}
+		}
+	}
+}
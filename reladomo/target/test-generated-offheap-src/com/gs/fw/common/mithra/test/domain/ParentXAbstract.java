@@ -0,0 +1,439 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ParentXAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ParentX.class.getName());
+	public ParentXAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ParentX getDetachedCopy() throws MithraBusinessException
+	{
+		return (ParentX) super.getDetachedCopy();
+	}
+
+	public ParentX getNonPersistentCopy() throws MithraBusinessException
+	{
+		ParentX result = (ParentX) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ParentX copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ParentX) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ParentX zFindOriginal()
+	{
+		ParentXData data = (ParentXData) this.currentData;
+		Operation op;
+		op = ParentXFinder.parentKey().eq(data.getParentKey());
+		return ParentXFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isChildrenModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ParentXData();
+	}
+
+	protected void zSetFromParentXData( ParentXData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromParentXData( ParentXData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public final boolean isParentKeyNull()
+	{
+		return ((ParentXData) this.zSynchronizedGetData()).isParentKeyNull();
+	}
+
+	public final String getParentKey()
+	{
+		ParentXData data = (ParentXData) this.zSynchronizedGetData();
+		return data.getParentKey();
+	}
+
+	public void setParentKey(String newValue)
+	{
+		MithraDataObject d = zSetString(ParentXFinder.parentKey(), newValue, true, false );
+		if (d == null) return;
+		ParentXData data = (ParentXData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			ConcreteChildList children =
+			(ConcreteChildList ) data.getChildren();
+			if (children != null)
+			{
+				children.setParentKey(newValue);
+			}
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ParentXData _newData = (ParentXData) _data;
+		{
+			ConcreteChildList children =
+			(ConcreteChildList) _newData.getChildren();
+			if (children != null)
+			{
+				children.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ParentXData _newData = (ParentXData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getChildren() != null && !(_newData.getChildren() instanceof NulledRelation))
+		{
+			((ConcreteChildList)_newData.getChildren()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ParentXData _newData = (ParentXData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getChildren() != null && !(_newData.getChildren() instanceof NulledRelation))
+		{
+			((ConcreteChildList)_newData.getChildren()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.parentKey = ConcreteChild.parentKey</pre>
+	* @see ConcreteChild#getParent() reverse relationship ConcreteChild.getParent()
+	* @return children
+	*/
+	public ConcreteChildList getChildren()
+	{
+		ConcreteChildList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ParentXData _data = (ParentXData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = ConcreteChildFinder.parentKey().eq(_data.getParentKey());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (ConcreteChildList) _data.getChildren();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = ConcreteChildFinder.parentKey().eq(_data.getParentKey());
+					_result = new ConcreteChildList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ChildrenAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (ParentXData) _behavior.getCurrentDataForWrite(this);
+				_data.setChildren(_result);
+				if (_result != null) _result.zSetParentContainerparent(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ConcreteChildList) _data.getChildren();
+			if (_result == null)
+			{
+				_result = new ConcreteChildList();
+				_result.zSetAddHandler(new ChildrenAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (ParentXData) _behavior.getCurrentDataForWrite(this);
+				_data.setChildren(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ConcreteChildList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ChildrenAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setChildren(ConcreteChildList children)
+	{
+		ConcreteChildList _children = (ConcreteChildList) children;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ParentXData _data = (ParentXData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _children != null)
+			{
+				_children.zMakeDetached(ConcreteChildFinder.parentKey().eq(_data.getParentKey()),
+					_data.getChildren());
+			}
+
+			_data.setChildren(_children);
+			if (_children != null)
+			{
+				_children.setParentKey(_data.getParentKey());
+				_children.zSetParentContainerparent(this);
+				_children.zSetAddHandler(new ChildrenAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_children.zSetAddHandler(new ChildrenAddHandlerPersisted());
+			ConcreteChildList childrenToDelete = new ConcreteChildList();
+			childrenToDelete.addAll(this.getChildren());
+			for(int i=0;i < _children.size(); i++)
+			{
+				ConcreteChild item = _children.getConcreteChildAt(i);
+				if (!childrenToDelete.remove(item))
+				{
+					item.setParentKey(_data.getParentKey());
+					item.cascadeInsert();
+				}
+			}
+
+			childrenToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isChildrenModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ParentXData _data = (ParentXData) _behavior.getCurrentDataForRead(this);
+		ConcreteChildList children =
+		(ConcreteChildList) _data.getChildren();
+		if( children != null)
+		{
+			return children.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ParentXData _data = (ParentXData) _behavior.getCurrentDataForWrite(this);
+		ConcreteChildList children =
+		(ConcreteChildList) _data.getChildren();
+		_behavior.insert(this);
+		if (children != null)
+		{
+			children.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		ParentXFinder.ParentXRelatedFinder parentFinder = (ParentXFinder.ParentXRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ParentXData _newData = (ParentXData) _behavior.getCurrentDataForWrite(this);
+		{
+			ConcreteChildList children =
+			(ConcreteChildList) _newData.getChildren();
+			RelatedFinder dependentFinder = parentFinder.children();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, children != null, navigationStats);
+			if (children != null)
+			{
+				children.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public ParentX zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ParentXData _data = (ParentXData) _behavior.getCurrentDataForWrite(this);
+		ConcreteChildList children =
+		(ConcreteChildList) _data.getChildren();
+		ParentX original = (ParentX) _behavior.copyThenInsert(this);
+		if (children != null)
+		{
+			children.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getChildren().cascadeDeleteAll();
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ParentXFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ParentXFinder.getMithraObjectPortal();
+	}
+
+	public ParentX getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ParentXFinder.parentKey(), true);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ParentXAbstract result = (ParentXAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class ChildrenAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ConcreteChild item = (ConcreteChild) relatedObject;
+			item.setParentKey(getParentKey());
+			item.zSetParentContainerparent(ParentXAbstract.this);
+		}
+	}
+
+	protected class ChildrenAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ConcreteChild item = (ConcreteChild) relatedObject;
+			item.setParentKey(getParentKey());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ParentXListAbstract extends DelegatingList<ParentX> implements MithraTransactionalList<ParentX>
+{
+	public ParentXListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ParentXListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ParentXListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ParentXListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ParentX[] elements()
+	{
+		ParentX[] result = new ParentX[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ParentXList intersection(ParentXList another)
+	{
+		return (ParentXList)super.intersection(another);
+	}
+
+	public ParentX getParentXAt(int index)
+	{
+		return (ParentX)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.parentKey = ConcreteChild.parentKey</pre>
+	* @see ConcreteChild#getParent() reverse relationship ConcreteChild.getParent()
+	* @return children
+	*/
+	public ConcreteChildList getChildren()
+	{
+		return (ConcreteChildList) this.zGetDelegated().resolveRelationship(this, ParentXFinder.children());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParentXFinder.getMithraObjectPortal();
+	}
+
+	public ParentXList getNonPersistentCopy()
+	{
+		ParentXList result = new ParentXList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ParentXList asAdhoc()
+	{
+		return (ParentXList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ParentX> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ParentXList merge(MithraTransactionalList<ParentX> incoming, TopLevelMergeOptions<ParentX> mergeOptions)
+	{
+		return (ParentXList) super.merge(incoming, mergeOptions);
+	}
+
+	public ParentXList getDetachedCopy()
+	{
+		ParentXList result = new ParentXList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setParentKey(String newValue)
+	{
+		zSetString(ParentXFinder.parentKey(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getChildren()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,344 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PersonAddressData
+implements MithraDataObject
+{
+	private String addressType;
+	private String city;
+	private int id;
+	private String street;
+	public boolean isAddressTypeNull()
+	{
+		return this.getAddressType() == null;
+	}
+
+	public boolean isCityNull()
+	{
+		return this.getCity() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStreetNull()
+	{
+		return this.getStreet() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.addressType);
+		out.writeObject(this.city);
+		out.writeInt(this.id);
+		out.writeObject(this.street);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getAddressType()
+	{
+		return this.addressType;
+	}
+
+	public int zGetAddressTypeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(addressType);
+	}
+
+	public void setAddressType(String value)
+	{
+		this.addressType = StringPool.getInstance().getOrAddToCache(value, PersonAddressFinder.isFullCache());
+	}
+
+	public void setAddressTypeNull()
+	{
+		this.setAddressType(null);
+	}
+
+	public String getCity()
+	{
+		return this.city;
+	}
+
+	public int zGetCityAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(city);
+	}
+
+	public void setCity(String value)
+	{
+		this.city = StringPool.getInstance().getOrAddToCache(value, PersonAddressFinder.isFullCache());
+	}
+
+	public void setCityNull()
+	{
+		this.setCity(null);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getStreet()
+	{
+		return this.street;
+	}
+
+	public int zGetStreetAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(street);
+	}
+
+	public void setStreet(String value)
+	{
+		this.street = StringPool.getInstance().getOrAddToCache(value, PersonAddressFinder.isFullCache());
+	}
+
+	public void setStreetNull()
+	{
+		this.setStreet(null);
+	}
+
+	protected void copyInto(PersonAddressData copy, boolean withRelationships)
+	{
+		copy.addressType = this.addressType;
+		copy.city = this.city;
+		copy.id = this.id;
+		copy.street = this.street;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.addressType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonAddressFinder.isFullCache());
+		this.city = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonAddressFinder.isFullCache());
+		this.id = in.readInt();
+		this.street = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonAddressFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final PersonAddressData otherData = (PersonAddressData) other;
+		if (!isAddressTypeNull() ? !getAddressType().equals(otherData.getAddressType()) : !otherData.isAddressTypeNull())
+		{
+			return false;
+		}
+
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.addressType);
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.addressType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonAddressFinder.isFullCache());
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final PersonAddressData personAddressData = (PersonAddressData) newData;
+		this.setCity(personAddressData.getCity());
+		this.setStreet(personAddressData.getStreet());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final PersonAddressData other = (PersonAddressData) newData;
+		if (!isCityNull() ? !getCity().equals(other.getCity()) : !other.isCityNull())
+		{
+			return true;
+		}
+
+		if (!isStreetNull() ? !getStreet().equals(other.getStreet()) : !other.isStreetNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		PersonAddressData copy = new PersonAddressData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		PersonAddressData copy = new PersonAddressData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "addressType: "+(isAddressTypeNull() ? "null" : "'"+getAddressType()+"'")+ " / ";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.PersonAddressData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		final PersonAddressData personAddressData = (PersonAddressData) newData;
+		if (isAddressTypeNull() != personAddressData.isAddressTypeNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return PersonAddressFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return PersonAddressFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.PersonAddressData";
+	}
+}
@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PersonAddressListAbstract extends DelegatingList<PersonAddress> implements MithraTransactionalList<PersonAddress>
+{
+	public PersonAddressListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PersonAddressListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PersonAddressListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PersonAddressListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PersonAddress[] elements()
+	{
+		PersonAddress[] result = new PersonAddress[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PersonAddressList intersection(PersonAddressList another)
+	{
+		return (PersonAddressList)super.intersection(another);
+	}
+
+	public PersonAddress getPersonAddressAt(int index)
+	{
+		return (PersonAddress)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PersonAddressFinder.getMithraObjectPortal();
+	}
+
+	public PersonAddressList getNonPersistentCopy()
+	{
+		PersonAddressList result = new PersonAddressList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PersonAddressList asAdhoc()
+	{
+		return (PersonAddressList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<PersonAddress> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public PersonAddressList merge(MithraTransactionalList<PersonAddress> incoming, TopLevelMergeOptions<PersonAddress> mergeOptions)
+	{
+		return (PersonAddressList) super.merge(incoming, mergeOptions);
+	}
+
+	public PersonAddressList getDetachedCopy()
+	{
+		PersonAddressList result = new PersonAddressList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(PersonAddressFinder.id(), newValue);
+	}
+
+	public void setAddressType(String newValue)
+	{
+		zSetString(PersonAddressFinder.addressType(), newValue);
+	}
+
+	public void setStreet(String newValue)
+	{
+		zSetString(PersonAddressFinder.street(), newValue);
+	}
+
+	public void setCity(String newValue)
+	{
+		zSetString(PersonAddressFinder.city(), newValue);
+	}
+}
@@ -0,0 +1,280 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class PersonAddressROAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String addressType;
+	private String city;
+	private int id;
+	private String street;
+	public boolean isAddressTypeNull()
+	{
+		return this.getAddressType() == null;
+	}
+
+	public boolean isCityNull()
+	{
+		return this.getCity() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStreetNull()
+	{
+		return this.getStreet() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.addressType);
+		out.writeObject(this.city);
+		out.writeInt(this.id);
+		out.writeObject(this.street);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		PersonAddressROData data = new PersonAddressROData();
+		data.setAddressType(addressType);
+		data.setCity(city);
+		data.setId(id);
+		data.setStreet(street);
+		return data;
+	}
+
+	public PersonAddressRO getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		PersonAddressROAbstract copy = (PersonAddressROAbstract) PersonAddressROFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (PersonAddressRO)copy;
+	}
+
+	protected void zSetFromPersonAddressROData(PersonAddressROData data)
+	{
+		this.setFromPersonAddressROData(data);
+	}
+
+	public void setFromPersonAddressROData(PersonAddressROData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		addressType = data.getAddressType();
+		city = data.getCity();
+		id = data.getId();
+		street = data.getStreet();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PersonAddressROFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromPersonAddressROData((PersonAddressROData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getAddressType()
+	{
+		return this.addressType;
+	}
+
+	public void setAddressType(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.addressType = StringPool.getInstance().getOrAddToCache(value, PersonAddressROFinder.isFullCache());
+	}
+
+	public String getCity()
+	{
+		return this.city;
+	}
+
+	public void setCity(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.city = StringPool.getInstance().getOrAddToCache(value, PersonAddressROFinder.isFullCache());
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public String getStreet()
+	{
+		return this.street;
+	}
+
+	public void setStreet(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.street = StringPool.getInstance().getOrAddToCache(value, PersonAddressROFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final PersonAddressROData personAddressROData = (PersonAddressROData) newData;
+		if (!isCityNull() ? !getCity().equals(personAddressROData.getCity()) : !personAddressROData.isCityNull())
+		{
+			return true;
+		}
+
+		if (!isStreetNull() ? !getStreet().equals(personAddressROData.getStreet()) : !personAddressROData.isStreetNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "addressType: "+(isAddressTypeNull() ? "null" : "'"+getAddressType()+"'")+ " / ";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeObject(this.addressType);
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.addressType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonAddressROFinder.isFullCache());
+			this.city = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonAddressROFinder.isFullCache());
+			this.id = in.readInt();
+			this.street = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonAddressROFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.addressType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonAddressROFinder.isFullCache());
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = PersonAddressROFinder.id().eq(this.getId());
+			op = op.and(PersonAddressROFinder.addressType().eq(this.getAddressType()));
+			return PersonAddressROFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
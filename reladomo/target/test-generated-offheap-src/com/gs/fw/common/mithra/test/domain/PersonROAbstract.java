@@ -0,0 +1,472 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class PersonROAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy forfirm = new FirmRhs();
+	private static final class FirmRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PersonRO _castedSrcObject = (PersonRO) _srcObject;
+			FirmRO _castedTargetData = (FirmRO) _targetData;
+			if (!_castedSrcObject.isFirmIdNull() && _castedSrcObject.getFirmId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PersonRO _castedSrcObject = (PersonRO) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getFirmId(), _castedSrcObject.isFirmIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private byte isNullBits0 = 0;
+	private int addressId;
+	private int firmId;
+	private String firstName;
+	private int id;
+	private String lastName;
+	public boolean isFirstNameNull()
+	{
+		return this.getFirstName() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isLastNameNull()
+	{
+		return this.getLastName() == null;
+	}
+
+	public boolean isFirmIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isAddressIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.addressId);
+		out.writeInt(this.firmId);
+		out.writeObject(this.firstName);
+		out.writeInt(this.id);
+		out.writeObject(this.lastName);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		PersonROData data = new PersonROData();
+		data.setAddressId(addressId);
+		data.setFirmId(firmId);
+		data.setFirstName(firstName);
+		data.setId(id);
+		data.setLastName(lastName);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public PersonRO getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		PersonROAbstract copy = (PersonROAbstract) PersonROFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (PersonRO)copy;
+	}
+
+	protected void zSetFromPersonROData(PersonROData data)
+	{
+		this.setFromPersonROData(data);
+	}
+
+	public void setFromPersonROData(PersonROData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		addressId = data.getAddressId();
+		firmId = data.getFirmId();
+		firstName = data.getFirstName();
+		id = data.getId();
+		lastName = data.getLastName();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PersonROFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromPersonROData((PersonROData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public int getAddressId()
+	{
+		if (isAddressIdNull()) throwNullPrimitiveException("addressId");
+		return this.addressId;
+	}
+
+	public void setAddressId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.addressId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getFirmId()
+	{
+		if (isFirmIdNull()) throwNullPrimitiveException("firmId");
+		return this.firmId;
+	}
+
+	public void setFirmId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.firmId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getFirstName()
+	{
+		return this.firstName;
+	}
+
+	public void setFirstName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.firstName = StringPool.getInstance().getOrAddToCache(value, PersonROFinder.isFullCache());
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public String getLastName()
+	{
+		return this.lastName;
+	}
+
+	public void setLastName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.lastName = StringPool.getInstance().getOrAddToCache(value, PersonROFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setFirmIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setAddressIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.firmId = FirmRO.id</pre>
+	* @return The firm
+	*/
+	public FirmRO getFirm()
+	{
+		FirmRO _result = null;
+		if (_relationships != null)
+		{
+			_result = (FirmRO)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isFirmIdNull())
+			{
+				_portal = FirmROFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forfirm, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (FirmRO) _related;
+				if (_related == null)
+				{
+					_result = FirmROFinder.zFindOneForRelationship(zGetFirmOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.addressId = PersonAddressRO.id and PersonAddressRO.addressType={addressType}</pre>
+	* @return The address
+	*/
+	public PersonAddressRO getAddress(String addressType)
+	{
+		PersonAddressRO _result = null;
+		if (_result == null)
+		{
+			if (!this.isAddressIdNull())
+			{
+				_result = (PersonAddressRO) PersonAddressROFinder.findByPrimaryKey(this.getAddressId(),
+					addressType);
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	public void setFirm(FirmRO firm)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = firm;
+		if (firm == null)
+		{
+			this.setFirmIdNull();
+		}
+		else
+		{
+			this.setFirmId(firm.getId());
+		}
+	}
+
+	public Operation zGetFirmOperation()
+	{
+		PersonROAbstract _data = this;
+		return FirmROFinder.id().eq(_data.getFirmId());
+	}
+
+	public Operation zGetAddressOperation(String addressType)
+	{
+		PersonROAbstract _data = this;
+		return PersonAddressROFinder.id().eq(_data.getAddressId()).and(PersonAddressROFinder.addressType().eq(addressType));
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final PersonROData personROData = (PersonROData) newData;
+		if (isNullBits0 != personROData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (addressId != personROData.getAddressId())
+		{
+			return true;
+		}
+
+		if (firmId != personROData.getFirmId())
+		{
+			return true;
+		}
+
+		if (!isFirstNameNull() ? !getFirstName().equals(personROData.getFirstName()) : !personROData.isFirstNameNull())
+		{
+			return true;
+		}
+
+		if (!isLastNameNull() ? !getLastName().equals(personROData.getLastName()) : !personROData.isLastNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.addressId = in.readInt();
+			this.firmId = in.readInt();
+			this.firstName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonROFinder.isFullCache());
+			this.id = in.readInt();
+			this.lastName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PersonROFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = PersonROFinder.id().eq(this.getId());
+			return PersonROFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,901 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PersonROFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/PersonRO";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.PersonRO";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.PersonRO");
+	private static final PersonROSingleFinder<PersonRO, Object, PersonRO> finder = new PersonROSingleFinder<PersonRO, Object, PersonRO>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(PersonROFinder.PersonRORelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("firstName");
+		finderMethodMap.addNormalAttributeName("lastName");
+		finderMethodMap.addNormalAttributeName("firmId");
+		finderMethodMap.addNormalAttributeName("addressId");
+		finderMethodMap.addRelationshipName("firm");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = PersonROFinder.firmId().constructEqualityMapper(FirmROFinder.id());
+			result[1] = FirmROFinder.id().constructEqualityMapper(PersonROFinder.firmId());
+			result[2] = PersonROFinder.addressId().constructEqualityMapper(PersonAddressROFinder.id());
+			result[3] = PersonAddressROFinder.id().constructEqualityMapper(PersonROFinder.addressId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static PersonRO findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static PersonRO findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static PersonROList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (PersonROList) finder.findMany(operation);
+	}
+
+	public static PersonROList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (PersonROList) finder.findManyBypassCache(operation);
+	}
+
+	private static PersonRO findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (PersonRO) FinderUtils.findOne(found);
+	}
+
+	public static PersonRO findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PersonRO _castedTargetData = (PersonRO) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static PersonRO zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (PersonRO) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class PersonRORelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<PersonRO, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> firstName;
+		private StringAttribute<ParentOwnerType> lastName;
+		private IntegerAttribute<ParentOwnerType> firmId;
+		private IntegerAttribute<ParentOwnerType> addressId;
+		private PersonROFirmFinderSubclass<ParentOwnerType> firm;
+		public PersonRORelatedFinder()
+		{
+			super();
+		}
+
+		public PersonRORelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.PersonROFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return PersonROFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return PersonROFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return PersonROFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.id();
+			attributes[1] = this.firstName();
+			attributes[2] = this.lastName();
+			attributes[3] = this.firmId();
+			attributes[4] = this.addressId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.firm());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public PersonRO findOne(com.gs.fw.finder.Operation operation)
+		{
+			return PersonROFinder.findOne(operation, false);
+		}
+
+		public PersonRO findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return PersonROFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends PersonRO> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new PersonROList((Operation) operation);
+		}
+
+		public MithraList<? extends PersonRO> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			PersonROList result = (PersonROList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends PersonRO> constructEmptyList()
+		{
+			return new PersonROList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -741298061;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBJECTID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PersonROFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> firstName()
+		{
+			StringAttribute<ParentOwnerType> result = this.firstName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("FIRST_NAME","","firstName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(PersonROFinder.firstName(), this.mapper, this.zGetValueSelector());
+				this.firstName = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> lastName()
+		{
+			StringAttribute<ParentOwnerType> result = this.lastName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LAST_NAME","","lastName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(PersonROFinder.lastName(), this.mapper, this.zGetValueSelector());
+				this.lastName = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> firmId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.firmId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("FIRM_ID","","firmId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PersonROFinder.firmId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("firm");
+				this.firmId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> addressId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.addressId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ADDRESS_ID","","addressId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PersonROFinder.addressId(), this.mapper, this.zGetValueSelector());
+				this.addressId = result;
+			}
+
+			return result;
+		}
+
+		public FirmROFinder.FirmROSingleFinderForRelatedClasses<ParentOwnerType, FirmRO, PersonRO> firm()
+		{
+			PersonROFirmFinderSubclass<ParentOwnerType> result = this.firm;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PersonROFinder.zGetPersonROFirmReverseMapper());
+				newMapper.setToMany(false);
+				result = new PersonROFirmFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.firm = result;
+			}
+
+			return result;
+		}
+
+		public PersonAddressROFinder.PersonAddressROSingleFinderForRelatedClasses<ParentOwnerType, PersonAddressRO, PersonRO> address(String addressType)
+		{
+			PersonROAddressFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(PersonROFinder.zGetPersonROAddressReverseMapper(addressType));
+			newMapper.setToMany(false);
+			result = new PersonROAddressFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,addressType);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return PersonROFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return PersonROFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class PersonROCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends PersonRORelatedFinder<ParentOwnerType, ReturnType, PersonROList, OwnerType>
+	{
+		public PersonROCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class PersonROCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends PersonROCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PersonROCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class PersonROSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends PersonRORelatedFinder<ParentOwnerType, ReturnType, PersonROList, OwnerType>
+	implements ToOneFinder
+	{
+		public PersonROSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public PersonROSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(PersonRO other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public PersonRO findByPrimaryKey(int id)
+		{
+			PersonRO _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (PersonRO) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class PersonROSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends PersonROSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PersonROSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper firmReverseMapper = null;
+	public static Mapper zGetPersonROFirmReverseMapper()
+	{
+		if (firmReverseMapper == null)
+		{
+			firmReverseMapper = zConstructPersonROFirmReverseMapper();
+		}
+
+		return firmReverseMapper;
+	}
+
+	private static Mapper firmMapper = null;
+	public static Mapper zGetPersonROFirmMapper()
+	{
+		if (firmMapper == null)
+		{
+			firmMapper = zConstructPersonROFirmMapper();
+		}
+
+		return firmMapper;
+	}
+
+	private static Mapper firmPureReverseMapper = null;
+	public static Mapper zGetPersonROFirmPureReverseMapper()
+	{
+		if (firmPureReverseMapper == null)
+		{
+			firmPureReverseMapper = zConstructPersonROFirmPureReverseMapper();
+		}
+
+		return firmPureReverseMapper;
+	}
+
+	private static Mapper zConstructPersonROFirmPureReverseMapper()
+	{
+		Mapper firmMapper = PersonROFinder.zGetConstantJoin(0);
+		firmMapper.setName("firm");
+		return firmMapper;
+	}
+
+	private static Mapper zConstructPersonROFirmReverseMapper()
+	{
+		Mapper firmMapper = PersonROFinder.zGetConstantJoin(0);
+		firmMapper.setName("firm");
+		return firmMapper;
+	}
+
+	private static Mapper zConstructPersonROFirmMapper()
+	{
+		Mapper firmMapper = FirmROFinder.zGetConstantJoin(0);
+		firmMapper.setName("firm_Reverse");
+		return firmMapper;
+	}
+
+	public static Mapper zGetPersonROAddressReverseMapper(String addressType)
+	{
+		return zConstructPersonROAddressReverseMapper(addressType);
+	}
+
+	public static Mapper zGetPersonROAddressMapper(String addressType)
+	{
+		return zConstructPersonROAddressMapper(addressType);
+	}
+
+	private static Mapper addressPureReverseMapper = null;
+	public static Mapper zGetPersonROAddressPureReverseMapper()
+	{
+		if (addressPureReverseMapper == null)
+		{
+			addressPureReverseMapper = zConstructPersonROAddressPureReverseMapper();
+		}
+
+		return addressPureReverseMapper;
+	}
+
+	private static Mapper zConstructPersonROAddressPureReverseMapper()
+	{
+		Mapper addressMapper = PersonROFinder.zGetConstantJoin(2);
+		addressMapper.setName("address");
+		return addressMapper;
+	}
+
+	private static Mapper zConstructPersonROAddressReverseMapper(String addressType)
+	{
+		Mapper addressMapperInnerMapper = PersonROFinder.zGetConstantJoin(2);
+		Mapper addressMapper = new FilteredMapper(addressMapperInnerMapper, null, PersonAddressROFinder.addressType().eq(addressType));
+		addressMapper.setName("address");
+		return addressMapper;
+	}
+
+	private static Mapper zConstructPersonROAddressMapper(String addressType)
+	{
+		Mapper addressMapperInnerMapper = PersonROFinder.zGetConstantJoin(3);
+		Mapper addressMapper = new FilteredMapper(addressMapperInnerMapper, PersonAddressROFinder.addressType().eq(addressType), null);
+		addressMapper.setName("address_Reverse");
+		return addressMapper;
+	}
+
+	/** maps to PERSON_TBL.OBJECTID **/
+	public static IntegerAttribute<PersonRO> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to PERSON_TBL.FIRST_NAME **/
+	public static StringAttribute<PersonRO> firstName()
+	{
+		return finder.firstName();
+	}
+
+	/** maps to PERSON_TBL.LAST_NAME **/
+	public static StringAttribute<PersonRO> lastName()
+	{
+		return finder.lastName();
+	}
+
+	/** maps to PERSON_TBL.FIRM_ID **/
+	public static IntegerAttribute<PersonRO> firmId()
+	{
+		return finder.firmId();
+	}
+
+	/** maps to PERSON_TBL.ADDRESS_ID **/
+	public static IntegerAttribute<PersonRO> addressId()
+	{
+		return finder.addressId();
+	}
+
+	public static FirmROFinder.FirmROSingleFinderForRelatedClasses<PersonRO, FirmRO, PersonRO> firm()
+	{
+		return finder.firm();
+	}
+
+	public static class PersonROFirmFinderSubclass<ParentOwnerType> extends FirmROFinder.FirmROSingleFinderForRelatedClasses<ParentOwnerType, FirmRO, PersonRO>
+	{
+		public PersonROFirmFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "firm";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PersonROFirmFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected FirmRO plainValueOf(PersonRO _obj)
+		{
+			return _obj.getFirm();
+		}
+
+		protected FirmROList plainListValueOf(Object _obj)
+		{
+			return ((PersonROList)_obj).getFirms();
+		}
+	}
+
+	public static PersonAddressROFinder.PersonAddressROSingleFinderForRelatedClasses<PersonRO, PersonAddressRO, PersonRO> address(String addressType)
+	{
+		return finder.address(addressType);
+	}
+
+	public static class PersonROAddressFinderSubclass<ParentOwnerType> extends PersonAddressROFinder.PersonAddressROSingleFinderForRelatedClasses<ParentOwnerType, PersonAddressRO, PersonRO>
+	{
+		private String addressType;
+		public PersonROAddressFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String addressType)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.addressType = addressType;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "address";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PersonROAddressFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.addressType
+			);
+		}
+
+		protected PersonAddressRO plainValueOf(PersonRO _obj)
+		{
+			return _obj.getAddress(addressType);
+		}
+
+		protected PersonAddressROList plainListValueOf(Object _obj)
+		{
+			return ((PersonROList)_obj).getAddress(addressType);
+		}
+	}
+
+	public static Operation eq(PersonRO other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static PersonROSingleFinder<PersonRO, Object, PersonRO> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			firmId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			addressId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			FirmROFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			FirmROFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.PersonRO");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,531 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class PhoneAbstract extends com.gs.fw.common.mithra.test.domain.InventoryItem implements MithraTransactionalObject, Serializable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Phone.class.getName());
+	private static final RelationshipHashStrategy formanufacturer = new ManufacturerRhs();
+	private static final class ManufacturerRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PhoneData _castedSrcData = (PhoneData) _srcData;
+			Manufacturer _castedTargetData = (Manufacturer) _targetData;
+			if (!_castedSrcData.isManufacturerIdNull() && _castedSrcData.getManufacturerId() == _castedTargetData.getManufacturerId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PhoneData _castedSrcData = (PhoneData) _srcData;
+			return HashUtil.hash(_castedSrcData.getManufacturerId(), _castedSrcData.isManufacturerIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public PhoneAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Phone getDetachedCopy() throws MithraBusinessException
+	{
+		return (Phone) super.getDetachedCopy();
+	}
+
+	public Phone getNonPersistentCopy() throws MithraBusinessException
+	{
+		Phone result = (Phone) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Phone copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Phone) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Phone zFindOriginal()
+	{
+		PhoneData data = (PhoneData) this.currentData;
+		Operation op;
+		op = PhoneFinder.inventoryId().eq(data.getInventoryId());
+		return PhoneFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PhoneData();
+	}
+
+	protected void zSetFromPhoneData( PhoneData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromPhoneData( PhoneData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((PhoneData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		PhoneData data = (PhoneData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 20: " + newValue);
+		zSetString(PhoneFinder.description(), newValue, false, false );
+	}
+
+	public boolean isInventoryIdNull()
+	{
+		return ((PhoneData) this.zSynchronizedGetData()).isInventoryIdNull();
+	}
+
+	public int getInventoryId()
+	{
+		PhoneData data = (PhoneData) this.zSynchronizedGetData();
+		return data.getInventoryId();
+	}
+
+	public void setInventoryId(int newValue)
+	{
+		zSetInteger(PhoneFinder.inventoryId(), newValue, true, false ,false);
+	}
+
+	public boolean isInventoryLevelNull()
+	{
+		return ((PhoneData) this.zSynchronizedGetData()).isInventoryLevelNull();
+	}
+
+	public int getInventoryLevel()
+	{
+		PhoneData data = (PhoneData) this.zSynchronizedGetData();
+		if (data.isInventoryLevelNull()) MithraNullPrimitiveException.throwNew("inventoryLevel", data);
+		return data.getInventoryLevel();
+	}
+
+	public void setInventoryLevel(int newValue)
+	{
+		zSetInteger(PhoneFinder.inventoryLevel(), newValue, false, false ,true);
+	}
+
+	public boolean isManufacturerIdNull()
+	{
+		return ((PhoneData) this.zSynchronizedGetData()).isManufacturerIdNull();
+	}
+
+	public int getManufacturerId()
+	{
+		PhoneData data = (PhoneData) this.zSynchronizedGetData();
+		if (data.isManufacturerIdNull()) MithraNullPrimitiveException.throwNew("manufacturerId", data);
+		return data.getManufacturerId();
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(PhoneFinder.manufacturerId(), newValue, false, false ,true);
+	}
+
+	public boolean isUnitPriceNull()
+	{
+		return ((PhoneData) this.zSynchronizedGetData()).isUnitPriceNull();
+	}
+
+	public double getUnitPrice()
+	{
+		PhoneData data = (PhoneData) this.zSynchronizedGetData();
+		if (data.isUnitPriceNull()) MithraNullPrimitiveException.throwNew("unitPrice", data);
+		return data.getUnitPrice();
+	}
+
+	public void setUnitPrice(double newValue)
+	{
+		zSetDouble(PhoneFinder.unitPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isWeightNull()
+	{
+		return ((PhoneData) this.zSynchronizedGetData()).isWeightNull();
+	}
+
+	public double getWeight()
+	{
+		PhoneData data = (PhoneData) this.zSynchronizedGetData();
+		if (data.isWeightNull()) MithraNullPrimitiveException.throwNew("weight", data);
+		return data.getWeight();
+	}
+
+	public void setWeight(double newValue)
+	{
+		zSetDouble(PhoneFinder.weight(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, PhoneFinder.weight(), false);
+		zNullify(behavior, data, PhoneFinder.unitPrice(), false);
+		zNullify(behavior, data, PhoneFinder.manufacturerId(), false);
+		zNullify(behavior, data, PhoneFinder.inventoryLevel(), false);
+	}
+
+	public void setWeightNull()
+	{
+		zNullify(PhoneFinder.weight(), false);
+	}
+
+	public void setUnitPriceNull()
+	{
+		zNullify(PhoneFinder.unitPrice(), false);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zNullify(PhoneFinder.manufacturerId(), false);
+	}
+
+	public void setInventoryLevelNull()
+	{
+		zNullify(PhoneFinder.inventoryLevel(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PhoneData _newData = (PhoneData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		PhoneData _newData = (PhoneData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PhoneData _newData = (PhoneData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId and SupplierInventoryItem.supplierId = Supplier.supplierId and Supplier.location = "New York"</pre>
+	* @see Supplier#getSuppliedPhones() reverse relationship Supplier.getSuppliedPhones()
+	* @return suppliers
+	*/
+	public SupplierList getSuppliers()
+	{
+		SupplierList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		PhoneData _data = (PhoneData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(PhoneFinder.zGetSuppliersMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(PhoneFinder.zGetSuppliersMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+					_result = new SupplierList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (SupplierList) _data.getSuppliers();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(PhoneFinder.zGetSuppliersMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new SupplierList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setSuppliers(SupplierList suppliers)
+	{
+		SupplierList _suppliers = (SupplierList) suppliers;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PhoneData _data = (PhoneData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSuppliers(_suppliers);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Manufacturer.manufacturerId = this.manufacturerId</pre>
+	* @return The manufacturer
+	*/
+	public Manufacturer getManufacturer()
+	{
+		Manufacturer _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		PhoneData _data = (PhoneData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isManufacturerIdNull())
+			{
+				_portal = ManufacturerFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, formanufacturer, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Manufacturer) _related;
+				if (_related == null)
+				{
+					_op = ManufacturerFinder.manufacturerId().eq(_data.getManufacturerId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					Operation detachedOp = ManufacturerFinder.manufacturerId().eq(_data.getManufacturerId());
+					_result = ManufacturerFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Manufacturer) _data.getManufacturer();
+			if (_result == null)
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					_op = ManufacturerFinder.manufacturerId().eq(_data.getManufacturerId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ManufacturerFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setManufacturer(Manufacturer manufacturer)
+	{
+		Manufacturer _manufacturer = (Manufacturer) manufacturer;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PhoneData _data = (PhoneData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setManufacturer(_manufacturer);
+			if (_manufacturer == null)
+			{
+				this.setManufacturerIdNull();
+			}
+			else
+			{
+				this.setManufacturerId(_manufacturer.getManufacturerId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_manufacturer == null)
+			{
+				this.setManufacturerIdNull();
+			}
+			else
+			{
+				this.setManufacturerId(
+					_manufacturer.getManufacturerId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Phone zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Phone original = (Phone) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return PhoneFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PhoneFinder.getMithraObjectPortal();
+	}
+
+	public Phone getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, PhoneFinder.description(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PhoneFinder.inventoryLevel(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PhoneFinder.manufacturerId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, PhoneFinder.unitPrice(), false);
+		changed |= zUpdateDouble(behavior, data, newData, PhoneFinder.weight(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, PhoneFinder.inventoryId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		PhoneAbstract result = (PhoneAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
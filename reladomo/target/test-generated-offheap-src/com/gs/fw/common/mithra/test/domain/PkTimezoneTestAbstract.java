@@ -0,0 +1,290 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class PkTimezoneTestAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(PkTimezoneTest.class.getName());
+	public PkTimezoneTestAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public PkTimezoneTest getDetachedCopy() throws MithraBusinessException
+	{
+		return (PkTimezoneTest) super.getDetachedCopy();
+	}
+
+	public PkTimezoneTest getNonPersistentCopy() throws MithraBusinessException
+	{
+		PkTimezoneTest result = (PkTimezoneTest) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public PkTimezoneTest copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (PkTimezoneTest) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public PkTimezoneTest zFindOriginal()
+	{
+		PkTimezoneTestData data = (PkTimezoneTestData) this.currentData;
+		Operation op;
+		op = PkTimezoneTestFinder.insensitiveDate().eq(data.getInsensitiveDate());
+		op = op.and(PkTimezoneTestFinder.databaseDate().eq(data.getDatabaseDate()));
+		op = op.and(PkTimezoneTestFinder.utcDate().eq(data.getUtcDate()));
+		return PkTimezoneTestFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PkTimezoneTestData();
+	}
+
+	protected void zSetFromPkTimezoneTestData( PkTimezoneTestData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromPkTimezoneTestData( PkTimezoneTestData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDatabaseDateNull()
+	{
+		return ((PkTimezoneTestData) this.zSynchronizedGetData()).isDatabaseDateNull();
+	}
+
+	public Timestamp getDatabaseDate()
+	{
+		PkTimezoneTestData data = (PkTimezoneTestData) this.zSynchronizedGetData();
+		return data.getDatabaseDate();
+	}
+
+	public void setDatabaseDate(Timestamp newValue)
+	{
+		zSetTimestamp(PkTimezoneTestFinder.databaseDate(), newValue, true, false );
+	}
+
+	public boolean isInsensitiveDateNull()
+	{
+		return ((PkTimezoneTestData) this.zSynchronizedGetData()).isInsensitiveDateNull();
+	}
+
+	public Timestamp getInsensitiveDate()
+	{
+		PkTimezoneTestData data = (PkTimezoneTestData) this.zSynchronizedGetData();
+		return data.getInsensitiveDate();
+	}
+
+	public void setInsensitiveDate(Timestamp newValue)
+	{
+		zSetTimestamp(PkTimezoneTestFinder.insensitiveDate(), newValue, true, false );
+	}
+
+	public boolean isUtcDateNull()
+	{
+		return ((PkTimezoneTestData) this.zSynchronizedGetData()).isUtcDateNull();
+	}
+
+	public Timestamp getUtcDate()
+	{
+		PkTimezoneTestData data = (PkTimezoneTestData) this.zSynchronizedGetData();
+		return data.getUtcDate();
+	}
+
+	public void setUtcDate(Timestamp newValue)
+	{
+		zSetTimestamp(PkTimezoneTestFinder.utcDate(), newValue, true, false );
+	}
+
+	public boolean isValueNull()
+	{
+		return ((PkTimezoneTestData) this.zSynchronizedGetData()).isValueNull();
+	}
+
+	public int getValue()
+	{
+		PkTimezoneTestData data = (PkTimezoneTestData) this.zSynchronizedGetData();
+		if (data.isValueNull()) MithraNullPrimitiveException.throwNew("value", data);
+		return data.getValue();
+	}
+
+	public void setValue(int newValue)
+	{
+		zSetInteger(PkTimezoneTestFinder.value(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, PkTimezoneTestFinder.value(), false);
+	}
+
+	public void setValueNull()
+	{
+		zNullify(PkTimezoneTestFinder.value(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PkTimezoneTestData _newData = (PkTimezoneTestData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		PkTimezoneTestData _newData = (PkTimezoneTestData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PkTimezoneTestData _newData = (PkTimezoneTestData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public PkTimezoneTest zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PkTimezoneTest original = (PkTimezoneTest) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return PkTimezoneTestFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PkTimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public PkTimezoneTest getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, PkTimezoneTestFinder.value(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, PkTimezoneTestFinder.databaseDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, PkTimezoneTestFinder.insensitiveDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, PkTimezoneTestFinder.utcDate(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		PkTimezoneTestAbstract result = (PkTimezoneTestAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,359 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PkTimezoneTestData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private Timestamp databaseDate;
+	private Timestamp insensitiveDate;
+	private Timestamp utcDate;
+	private int value;
+	public boolean isDatabaseDateNull()
+	{
+		return this.getDatabaseDate() == null;
+	}
+
+	public boolean isInsensitiveDateNull()
+	{
+		return this.getInsensitiveDate() == null;
+	}
+
+	public boolean isUtcDateNull()
+	{
+		return this.getUtcDate() == null;
+	}
+
+	public boolean isValueNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimestamp(out, this.databaseDate);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.insensitiveDate);
+		MithraTimestamp.writeTimestamp(out, this.utcDate);
+		out.writeInt(this.value);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public Timestamp getDatabaseDate()
+	{
+		return this.databaseDate;
+	}
+
+	public long zGetDatabaseDateAsLong()
+	{
+		if (databaseDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return databaseDate.getTime();
+	}
+
+	public void setDatabaseDate(Timestamp value)
+	{
+		this.databaseDate = TimestampPool.getInstance().getOrAddToCache(value, PkTimezoneTestFinder.isFullCache(), PkTimezoneTestFinder.isOffHeap());
+	}
+
+	public void setDatabaseDateNull()
+	{
+		this.setDatabaseDate(null);
+	}
+
+	public Timestamp getInsensitiveDate()
+	{
+		return this.insensitiveDate;
+	}
+
+	public long zGetInsensitiveDateAsLong()
+	{
+		if (insensitiveDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return insensitiveDate.getTime();
+	}
+
+	public void setInsensitiveDate(Timestamp value)
+	{
+		this.insensitiveDate = TimestampPool.getInstance().getOrAddToCache(value, PkTimezoneTestFinder.isFullCache(), PkTimezoneTestFinder.isOffHeap());
+	}
+
+	public void setInsensitiveDateNull()
+	{
+		this.setInsensitiveDate(null);
+	}
+
+	public Timestamp getUtcDate()
+	{
+		return this.utcDate;
+	}
+
+	public long zGetUtcDateAsLong()
+	{
+		if (utcDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return utcDate.getTime();
+	}
+
+	public void setUtcDate(Timestamp value)
+	{
+		this.utcDate = TimestampPool.getInstance().getOrAddToCache(value, PkTimezoneTestFinder.isFullCache(), PkTimezoneTestFinder.isOffHeap());
+	}
+
+	public void setUtcDateNull()
+	{
+		this.setUtcDate(null);
+	}
+
+	public int getValue()
+	{
+		return this.value;
+	}
+
+	public void setValue(int value)
+	{
+		this.value = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(PkTimezoneTestData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.databaseDate = this.databaseDate;
+		copy.insensitiveDate = this.insensitiveDate;
+		copy.utcDate = this.utcDate;
+		copy.value = this.value;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.databaseDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), PkTimezoneTestFinder.isFullCache(), PkTimezoneTestFinder.isOffHeap());
+		this.insensitiveDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PkTimezoneTestFinder.isFullCache(), PkTimezoneTestFinder.isOffHeap());
+		this.utcDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), PkTimezoneTestFinder.isFullCache(), PkTimezoneTestFinder.isOffHeap());
+		this.value = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final PkTimezoneTestData otherData = (PkTimezoneTestData) other;
+		if (!isDatabaseDateNull() ? !getDatabaseDate().equals(otherData.getDatabaseDate()) : !otherData.isDatabaseDateNull())
+		{
+			return false;
+		}
+
+		if (!isInsensitiveDateNull() ? !getInsensitiveDate().equals(otherData.getInsensitiveDate()) : !otherData.isInsensitiveDateNull())
+		{
+			return false;
+		}
+
+		if (!isUtcDateNull() ? !getUtcDate().equals(otherData.getUtcDate()) : !otherData.isUtcDateNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		MithraTimestamp.writeTimestamp(out, this.databaseDate);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.insensitiveDate);
+		MithraTimestamp.writeTimestamp(out, this.utcDate);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.databaseDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), PkTimezoneTestFinder.isFullCache(), PkTimezoneTestFinder.isOffHeap());
+		this.insensitiveDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PkTimezoneTestFinder.isFullCache(), PkTimezoneTestFinder.isOffHeap());
+		this.utcDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), PkTimezoneTestFinder.isFullCache(), PkTimezoneTestFinder.isOffHeap());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final PkTimezoneTestData pkTimezoneTestData = (PkTimezoneTestData) newData;
+		this.setValue(pkTimezoneTestData.getValue());
+		if (pkTimezoneTestData.isValueNull()) this.setValueNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final PkTimezoneTestData other = (PkTimezoneTestData) newData;
+		if ( isValueNull() != other.isValueNull() || getValue() != other.getValue())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		PkTimezoneTestData copy = new PkTimezoneTestData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		PkTimezoneTestData copy = new PkTimezoneTestData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "databaseDate: "+(isDatabaseDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getDatabaseDate().getTime()))+ " / ";
+		result += "insensitiveDate: "+(isInsensitiveDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getInsensitiveDate().getTime()))+ " / ";
+		result += "utcDate: "+(isUtcDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getUtcDate().getTime()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.PkTimezoneTestData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return PkTimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return PkTimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.PkTimezoneTestData";
+	}
+}
@@ -0,0 +1,465 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class PkTimezoneTestDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "\"VALUE\"";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.\"VALUE\"";
+	private static final String PK_WITH_ALIAS = "t0.INSENSISTIVE_DATE = ? AND t0.DATABASE_DATE = ? AND t0.\"UTC_DATE\" = ?";
+	private static final String PK_INDEX_COLS = "INSENSISTIVE_DATE,DATABASE_DATE,\"UTC_DATE\"";
+	protected PkTimezoneTestDatabaseObjectAbstract()
+	{
+		super("PkTimezoneTest", "com.gs.fw.common.mithra.test.domain.PkTimezoneTestFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PkTimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return PkTimezoneTestFinder.getFinderInstance();
+	}
+
+	public static PkTimezoneTestData allocateOnHeapData()
+	{
+		return new PkTimezoneTestData();
+	}
+
+	public static PkTimezoneTestData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new PkTimezoneTestData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		PkTimezoneTestData data = new PkTimezoneTestData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(PkTimezoneTestFinder.getPrimaryKeyAttributes(), this, PkTimezoneTestFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(PkTimezoneTestFinder.getPrimaryKeyAttributes(), this, PkTimezoneTestFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(PkTimezoneTestFinder.getPrimaryKeyAttributes(), this, PkTimezoneTestFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(PkTimezoneTestFinder.getPrimaryKeyAttributes(), this, PkTimezoneTestFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			PkTimezoneTestFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			PkTimezoneTestFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			PkTimezoneTest.zConfigFullTx();
+		}
+		else
+		{
+			PkTimezoneTest.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflatePkTimezoneTestData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkPkTimezoneTestData(1, (PkTimezoneTestData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflatePkTimezoneTestPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getPkTimezoneTestTableName();
+	}
+
+	public String getPkTimezoneTestTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		PkTimezoneTestData data = (PkTimezoneTestData)dataObj;
+		TimeZone conversionTimeZone = null;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getInsensitiveDate(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = databaseTimeZone;
+		dt.setTimestamp(stm, pos, data.getDatabaseDate(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.UtcTimeZone;
+		dt.setTimestamp(stm, pos, data.getUtcDate(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "INSENSISTIVE_DATE = ? AND DATABASE_DATE = ? AND \"UTC_DATE\" = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.INSENSISTIVE_DATE,t0.DATABASE_DATE,t0.\"UTC_DATE\",t0.\"VALUE\"";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("INSENSISTIVE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("DATABASE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("\"UTC_DATE\"");
+		result.append(",").append(databaseAlias).append(".").append("\"VALUE\"");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public PkTimezoneTestData inflatePkTimezoneTestData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		PkTimezoneTestData data = inflatePkTimezoneTestPkData(rs, dt);
+		inflateNonPkPkTimezoneTestData(4, data, rs, dt);
+		return data;
+	}
+
+	public PkTimezoneTestData inflatePkTimezoneTestPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TimeZone _databaseTimeZone = getDatabaseTimeZone();
+		PkTimezoneTestData _data = new PkTimezoneTestData();
+		int _pos = 1;
+		Timestamp insensitiveDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setInsensitiveDate(insensitiveDatetimestampValue);
+		Timestamp databaseDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, _databaseTimeZone);
+		_data.setDatabaseDate(databaseDatetimestampValue);
+		Timestamp utcDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.UtcTimeZone);
+		_data.setUtcDate(utcDatetimestampValue);
+		return _data;
+	}
+
+	public void inflateNonPkPkTimezoneTestData(int _pos, PkTimezoneTestData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TimeZone _databaseTimeZone = getDatabaseTimeZone();
+		{
+			PkTimezoneTestData _data = _datax;
+			_data.setValue(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setValueNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "PKTIMEZONE_TEST";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		PkTimezoneTestData data = (PkTimezoneTestData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isInsensitiveDateNull())
+		{
+			throwNullAttribute("insensitiveDate");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getInsensitiveDate(), false, conversionTimeZone);
+		pos++;
+		if(data.isDatabaseDateNull())
+		{
+			throwNullAttribute("databaseDate");
+		}
+
+		conversionTimeZone = databaseTimeZone;
+		dt.setTimestamp(stm, pos, data.getDatabaseDate(), false, conversionTimeZone);
+		pos++;
+		if(data.isUtcDateNull())
+		{
+			throwNullAttribute("utcDate");
+		}
+
+		conversionTimeZone = MithraTimestamp.UtcTimeZone;
+		dt.setTimestamp(stm, pos, data.getUtcDate(), false, conversionTimeZone);
+		pos++;
+		if (data.isValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getValue());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "INSENSISTIVE_DATE,DATABASE_DATE,\"UTC_DATE\",\"VALUE\"";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		PkTimezoneTest newObject = new PkTimezoneTest();
+		newObject.zSetFromPkTimezoneTestData((PkTimezoneTestData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.INSENSISTIVE_DATE,t0.DATABASE_DATE,t0.\"UTC_DATE\"";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("INSENSISTIVE_DATE");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DATABASE_DATE");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("\"UTC_DATE\"");
+		return result.toString();
+	}
+}
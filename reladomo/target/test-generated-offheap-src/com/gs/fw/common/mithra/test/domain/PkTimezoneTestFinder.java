@@ -0,0 +1,656 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PkTimezoneTestFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/PkTimezoneTest";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.PkTimezoneTest";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.PkTimezoneTest");
+	private static final PkTimezoneTestSingleFinder<PkTimezoneTest, Object, PkTimezoneTest> finder = new PkTimezoneTestSingleFinder<PkTimezoneTest, Object, PkTimezoneTest>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(PkTimezoneTestFinder.PkTimezoneTestRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("insensitiveDate");
+		finderMethodMap.addNormalAttributeName("databaseDate");
+		finderMethodMap.addNormalAttributeName("utcDate");
+		finderMethodMap.addNormalAttributeName("value");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static PkTimezoneTest findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static PkTimezoneTest findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static PkTimezoneTestList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (PkTimezoneTestList) finder.findMany(operation);
+	}
+
+	public static PkTimezoneTestList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (PkTimezoneTestList) finder.findManyBypassCache(operation);
+	}
+
+	private static PkTimezoneTest findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (PkTimezoneTest) FinderUtils.findOne(found);
+	}
+
+	public static PkTimezoneTest findByPrimaryKey(Timestamp insensitiveDate, Timestamp databaseDate, Timestamp utcDate)
+	{
+		return finder.findByPrimaryKey(insensitiveDate, databaseDate, utcDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PkTimezoneTestData _castedTargetData = (PkTimezoneTestData) _targetData;
+			if (_bean.getO1AsTimestamp().equals(_castedTargetData.getInsensitiveDate()) && _bean.getO2AsTimestamp().equals(_castedTargetData.getDatabaseDate()) && _bean.getO3AsTimestamp().equals(_castedTargetData.getUtcDate()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsTimestamp()),HashUtil.hash(_bean.getO2AsTimestamp())),HashUtil.hash(_bean.getO3AsTimestamp()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsTimestamp()),HashUtil.hash(_bean.getO2AsTimestamp())),HashUtil.hash(_bean.getO3AsTimestamp()));
+		}
+	}
+
+	public static PkTimezoneTest zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (PkTimezoneTest) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class PkTimezoneTestRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<PkTimezoneTest, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private TimestampAttribute<ParentOwnerType> insensitiveDate;
+		private TimestampAttribute<ParentOwnerType> databaseDate;
+		private TimestampAttribute<ParentOwnerType> utcDate;
+		private IntegerAttribute<ParentOwnerType> value;
+		public PkTimezoneTestRelatedFinder()
+		{
+			super();
+		}
+
+		public PkTimezoneTestRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.PkTimezoneTestFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return PkTimezoneTestFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return PkTimezoneTestFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return PkTimezoneTestFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.insensitiveDate();
+			attributes[1] = this.databaseDate();
+			attributes[2] = this.utcDate();
+			attributes[3] = this.value();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public PkTimezoneTest findOne(com.gs.fw.finder.Operation operation)
+		{
+			return PkTimezoneTestFinder.findOne(operation, false);
+		}
+
+		public PkTimezoneTest findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return PkTimezoneTestFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends PkTimezoneTest> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new PkTimezoneTestList((Operation) operation);
+		}
+
+		public MithraList<? extends PkTimezoneTest> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			PkTimezoneTestList result = (PkTimezoneTestList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends PkTimezoneTest> constructEmptyList()
+		{
+			return new PkTimezoneTestList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1773921773;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public TimestampAttribute<ParentOwnerType> insensitiveDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.insensitiveDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("INSENSISTIVE_DATE","","insensitiveDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(PkTimezoneTestFinder.insensitiveDate(), this.mapper, this.zGetValueSelector());
+				this.insensitiveDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> databaseDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.databaseDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("DATABASE_DATE","","databaseDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_TO_DATABASE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(PkTimezoneTestFinder.databaseDate(), this.mapper, this.zGetValueSelector());
+				this.databaseDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> utcDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.utcDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("\"UTC_DATE\"","","utcDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(PkTimezoneTestFinder.utcDate(), this.mapper, this.zGetValueSelector());
+				this.utcDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> value()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.value;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("\"VALUE\"","","value",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PkTimezoneTestFinder.value(), this.mapper, this.zGetValueSelector());
+				this.value = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return PkTimezoneTestFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return PkTimezoneTestFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class PkTimezoneTestCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends PkTimezoneTestRelatedFinder<ParentOwnerType, ReturnType, PkTimezoneTestList, OwnerType>
+	{
+		public PkTimezoneTestCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class PkTimezoneTestCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends PkTimezoneTestCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PkTimezoneTestCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class PkTimezoneTestSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends PkTimezoneTestRelatedFinder<ParentOwnerType, ReturnType, PkTimezoneTestList, OwnerType>
+	implements ToOneFinder
+	{
+		public PkTimezoneTestSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public PkTimezoneTestSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(PkTimezoneTest other)
+		{
+			return this.insensitiveDate().eq(other.getInsensitiveDate())
+			.and(this.databaseDate().eq(other.getDatabaseDate()))
+			.and(this.utcDate().eq(other.getUtcDate()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public PkTimezoneTest findByPrimaryKey(Timestamp insensitiveDate, Timestamp databaseDate, Timestamp utcDate)
+		{
+			PkTimezoneTest _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (insensitiveDate != null && databaseDate != null && utcDate != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(insensitiveDate);
+				_bean.setO2(databaseDate);
+				_bean.setO3(utcDate);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (PkTimezoneTest) _related;
+			if (_related == null)
+			{
+				_op = this.insensitiveDate().eq(insensitiveDate).and(this.databaseDate().eq(databaseDate)).and(this.utcDate().eq(utcDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class PkTimezoneTestSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends PkTimezoneTestSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PkTimezoneTestSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to PKTIMEZONE_TEST.INSENSISTIVE_DATE **/
+	public static TimestampAttribute<PkTimezoneTest> insensitiveDate()
+	{
+		return finder.insensitiveDate();
+	}
+
+	/** maps to PKTIMEZONE_TEST.DATABASE_DATE **/
+	public static TimestampAttribute<PkTimezoneTest> databaseDate()
+	{
+		return finder.databaseDate();
+	}
+
+	/** maps to PKTIMEZONE_TEST."UTC_DATE" **/
+	public static TimestampAttribute<PkTimezoneTest> utcDate()
+	{
+		return finder.utcDate();
+	}
+
+	/** maps to PKTIMEZONE_TEST."VALUE" **/
+	public static IntegerAttribute<PkTimezoneTest> value()
+	{
+		return finder.value();
+	}
+
+	public static Operation eq(PkTimezoneTest other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(insensitiveDate());
+	}
+
+	public static PkTimezoneTestSingleFinder<PkTimezoneTest, Object, PkTimezoneTest> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			insensitiveDate()
+			, databaseDate()
+			, utcDate()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			insensitiveDate()
+			, insensitiveDate()
+			, databaseDate()
+			, utcDate()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.PkTimezoneTest");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PkTimezoneTestListAbstract extends DelegatingList<PkTimezoneTest> implements MithraTransactionalList<PkTimezoneTest>
+{
+	public PkTimezoneTestListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PkTimezoneTestListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PkTimezoneTestListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PkTimezoneTestListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PkTimezoneTest[] elements()
+	{
+		PkTimezoneTest[] result = new PkTimezoneTest[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PkTimezoneTestList intersection(PkTimezoneTestList another)
+	{
+		return (PkTimezoneTestList)super.intersection(another);
+	}
+
+	public PkTimezoneTest getPkTimezoneTestAt(int index)
+	{
+		return (PkTimezoneTest)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PkTimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public PkTimezoneTestList getNonPersistentCopy()
+	{
+		PkTimezoneTestList result = new PkTimezoneTestList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PkTimezoneTestList asAdhoc()
+	{
+		return (PkTimezoneTestList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<PkTimezoneTest> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public PkTimezoneTestList merge(MithraTransactionalList<PkTimezoneTest> incoming, TopLevelMergeOptions<PkTimezoneTest> mergeOptions)
+	{
+		return (PkTimezoneTestList) super.merge(incoming, mergeOptions);
+	}
+
+	public PkTimezoneTestList getDetachedCopy()
+	{
+		PkTimezoneTestList result = new PkTimezoneTestList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setInsensitiveDate(Timestamp newValue)
+	{
+		zSetTimestamp(PkTimezoneTestFinder.insensitiveDate(), newValue);
+	}
+
+	public void setDatabaseDate(Timestamp newValue)
+	{
+		zSetTimestamp(PkTimezoneTestFinder.databaseDate(), newValue);
+	}
+
+	public void setUtcDate(Timestamp newValue)
+	{
+		zSetTimestamp(PkTimezoneTestFinder.utcDate(), newValue);
+	}
+
+	public void setValue(int newValue)
+	{
+		zSetInteger(PkTimezoneTestFinder.value(), newValue);
+	}
+
+	public void setValueNull()
+	{
+		zSetAttributeNull(PkTimezoneTestFinder.value());
+	}
+}
@@ -0,0 +1,458 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class PlayerAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Player.class.getName());
+	private static final RelationshipHashStrategy forteam = new TeamRhs();
+	private static final class TeamRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PlayerData _castedSrcData = (PlayerData) _srcData;
+			TeamData _castedTargetData = (TeamData) _targetData;
+			if (!_castedSrcData.isTeamIdNull() && _castedSrcData.getTeamId() == _castedTargetData.getTeamId() && _castedSrcData.getSourceId()!= null && _castedSrcData.getSourceId().equals(_castedTargetData.getSourceId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PlayerData _castedSrcData = (PlayerData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getTeamId(), _castedSrcData.isTeamIdNull()),HashUtil.hash(_castedSrcData.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PlayerData _castedSrcData = (PlayerData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getTeamId(), _castedSrcData.isTeamIdNull()),HashUtil.offHeapHash(_castedSrcData.getSourceId()));
+		}
+	}
+
+	public PlayerAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Player getDetachedCopy() throws MithraBusinessException
+	{
+		return (Player) super.getDetachedCopy();
+	}
+
+	public Player getNonPersistentCopy() throws MithraBusinessException
+	{
+		Player result = (Player) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Player copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Player) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Player zFindOriginal()
+	{
+		PlayerData data = (PlayerData) this.currentData;
+		Operation op;
+		op = PlayerFinder.id().eq(data.getId());
+		op = op.and(PlayerFinder.sourceId().eq(data.getSourceId()));
+		return PlayerFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PlayerData();
+	}
+
+	protected void zSetFromPlayerData( PlayerData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromPlayerData( PlayerData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDesignationNull()
+	{
+		return ((PlayerData) this.zSynchronizedGetData()).isDesignationNull();
+	}
+
+	public String getDesignation()
+	{
+		PlayerData data = (PlayerData) this.zSynchronizedGetData();
+		return data.getDesignation();
+	}
+
+	public void setDesignation(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'designation' cannot exceed maximum length of 20: " + newValue);
+		zSetString(PlayerFinder.designation(), newValue, false, false );
+	}
+
+	public boolean isEmailNull()
+	{
+		return ((PlayerData) this.zSynchronizedGetData()).isEmailNull();
+	}
+
+	public String getEmail()
+	{
+		PlayerData data = (PlayerData) this.zSynchronizedGetData();
+		return data.getEmail();
+	}
+
+	public void setEmail(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'email' cannot exceed maximum length of 20: " + newValue);
+		zSetString(PlayerFinder.email(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((PlayerData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		PlayerData data = (PlayerData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(PlayerFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isNameNull()
+	{
+		return ((PlayerData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		PlayerData data = (PlayerData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 20: " + newValue);
+		zSetString(PlayerFinder.name(), newValue, false, false );
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return ((PlayerData) this.zSynchronizedGetData()).isSourceIdNull();
+	}
+
+	public String getSourceId()
+	{
+		PlayerData data = (PlayerData) this.zSynchronizedGetData();
+		return data.getSourceId();
+	}
+
+	public void setSourceId(String newValue)
+	{
+		zSetString(PlayerFinder.sourceId(), newValue, false, false );
+	}
+
+	public boolean isTeamIdNull()
+	{
+		return ((PlayerData) this.zSynchronizedGetData()).isTeamIdNull();
+	}
+
+	public int getTeamId()
+	{
+		PlayerData data = (PlayerData) this.zSynchronizedGetData();
+		if (data.isTeamIdNull()) MithraNullPrimitiveException.throwNew("teamId", data);
+		return data.getTeamId();
+	}
+
+	public void setTeamId(int newValue)
+	{
+		zSetInteger(PlayerFinder.teamId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, PlayerFinder.teamId(), false);
+	}
+
+	public void setTeamIdNull()
+	{
+		zNullify(PlayerFinder.teamId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PlayerData _newData = (PlayerData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		PlayerData _newData = (PlayerData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PlayerData _newData = (PlayerData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.teamId = Team.teamId</pre>
+	* @see Team#getPlayers() reverse relationship Team.getPlayers()
+	* @return The team
+	*/
+	public Team getTeam()
+	{
+		Team _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		PlayerData _data = (PlayerData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isTeamIdNull())
+			{
+				_portal = TeamFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forteam, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Team) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(PlayerFinder.team().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isTeamIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(PlayerFinder.team().zGetRelationshipMultiExtractor(), this);
+					_result = TeamFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Team) _data.getTeam();
+			if (_result == null)
+			{
+				if (!_data.isTeamIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(PlayerFinder.team().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TeamFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setTeam(Team team)
+	{
+		Team _team = (Team) team;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PlayerData _data = (PlayerData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setTeam(_team);
+			if (_team == null)
+			{
+				this.setTeamIdNull();
+				this.setSourceId(null);
+			}
+			else
+			{
+				this.setTeamId(_team.getTeamId());
+				this.setSourceId(_team.getSourceId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_team == null)
+			{
+				this.setTeamIdNull();
+				this.setSourceId(null);
+			}
+			else
+			{
+				this.setTeamId(
+					_team.getTeamId());
+				this.setSourceId(
+					_team.getSourceId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Player zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Player original = (Player) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return PlayerFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PlayerFinder.getMithraObjectPortal();
+	}
+
+	public Player getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, PlayerFinder.designation(), false);
+		changed |= zUpdateString(behavior, data, newData, PlayerFinder.email(), false);
+		changed |= zUpdateString(behavior, data, newData, PlayerFinder.name(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PlayerFinder.teamId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, PlayerFinder.id(), false);
+		changed |= zUpdateString(behavior, data, newData, PlayerFinder.sourceId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		PlayerAbstract result = (PlayerAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,314 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class PositionDriverAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private MithraObjectPortal portal;
+	private static final Logger logger = LoggerFactory.getLogger(PositionDriver.class.getName());
+	public PositionDriverAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public PositionDriver getDetachedCopy() throws MithraBusinessException
+	{
+		return (PositionDriver) super.getDetachedCopy();
+	}
+
+	public PositionDriver getNonPersistentCopy() throws MithraBusinessException
+	{
+		PositionDriver result = (PositionDriver) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public PositionDriver copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (PositionDriver) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public PositionDriver zFindOriginal()
+	{
+		PositionDriverData data = (PositionDriverData) this.currentData;
+		Operation op;
+		op = PositionDriverFinder.accountId().eq(data.getAccountId());
+		op = op.and(PositionDriverFinder.productId().eq(data.getProductId()));
+		op = op.and(PositionDriverFinder.acmapCode().eq(data.getAcmapCode()));
+		return PositionDriverFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PositionDriverData();
+	}
+
+	protected void zSetFromPositionDriverData( PositionDriverData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromPositionDriverData( PositionDriverData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return ((PositionDriverData) this.zSynchronizedGetData()).isAccountIdNull();
+	}
+
+	public String getAccountId()
+	{
+		PositionDriverData data = (PositionDriverData) this.zSynchronizedGetData();
+		return data.getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'accountId' cannot exceed maximum length of 20: " + newValue);
+		zSetString(PositionDriverFinder.accountId(), newValue, true, false );
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return ((PositionDriverData) this.zSynchronizedGetData()).isAcmapCodeNull();
+	}
+
+	public String getAcmapCode()
+	{
+		PositionDriverData data = (PositionDriverData) this.zSynchronizedGetData();
+		return data.getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(PositionDriverFinder.acmapCode(), newValue, false, false );
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((PositionDriverData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		PositionDriverData data = (PositionDriverData) this.zSynchronizedGetData();
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(PositionDriverFinder.productId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PositionDriverData _newData = (PositionDriverData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		PositionDriverData _newData = (PositionDriverData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PositionDriverData _newData = (PositionDriverData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.accountId = PositionQuantity.accountId
+	and this.productId = PositionQuantity.productId
+	and PositionQuantity.businessDate = {businessDate}</pre>
+	* @return quantities
+	*/
+	public PositionQuantityList getQuantities(Timestamp businessDate)
+	{
+		PositionQuantityList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		PositionDriverData _data = (PositionDriverData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = PositionQuantityFinder.accountId().eq(_data.getAccountId()).and(PositionQuantityFinder.productId().eq(_data.getProductId())).and(PositionQuantityFinder.acmapCode().eq(_data.getAcmapCode())).and(PositionQuantityFinder.businessDate().eq(businessDate));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new PositionQuantityList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public PositionDriver zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PositionDriver original = (PositionDriver) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		if (this.portal == null)
+		{
+			this.portal = PositionDriverFinder.getMithraObjectPortal();
+		}
+
+		return this.portal.getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		if (this.portal == null)
+		{
+			this.portal = PositionDriverFinder.getMithraObjectPortal();
+		}
+
+		return this.portal;
+	}
+
+	public PositionDriver getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, PositionDriverFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, PositionDriverFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PositionDriverFinder.productId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		PositionDriverAbstract result = (PositionDriverAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
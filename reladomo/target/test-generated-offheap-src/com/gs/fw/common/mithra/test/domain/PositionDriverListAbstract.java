@@ -0,0 +1,157 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PositionDriverListAbstract extends DelegatingList<PositionDriver> implements MithraTransactionalList<PositionDriver>
+{
+	public PositionDriverListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PositionDriverListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PositionDriverListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PositionDriverListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PositionDriver[] elements()
+	{
+		PositionDriver[] result = new PositionDriver[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PositionDriverList intersection(PositionDriverList another)
+	{
+		return (PositionDriverList)super.intersection(another);
+	}
+
+	public PositionDriver getPositionDriverAt(int index)
+	{
+		return (PositionDriver)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.accountId = PositionQuantity.accountId
+	and this.productId = PositionQuantity.productId
+	and PositionQuantity.businessDate = {businessDate}</pre>
+	* @return quantities
+	*/
+	public PositionQuantityList getQuantities(Timestamp businessDate)
+	{
+		return (PositionQuantityList) this.zGetDelegated().resolveRelationship(this, PositionDriverFinder.quantities(businessDate));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PositionDriverFinder.getMithraObjectPortal();
+	}
+
+	public PositionDriverList getNonPersistentCopy()
+	{
+		PositionDriverList result = new PositionDriverList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PositionDriverList asAdhoc()
+	{
+		return (PositionDriverList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<PositionDriver> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public PositionDriverList merge(MithraTransactionalList<PositionDriver> incoming, TopLevelMergeOptions<PositionDriver> mergeOptions)
+	{
+		return (PositionDriverList) super.merge(incoming, mergeOptions);
+	}
+
+	public PositionDriverList getDetachedCopy()
+	{
+		PositionDriverList result = new PositionDriverList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(PositionDriverFinder.accountId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(PositionDriverFinder.productId(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(PositionDriverFinder.acmapCode(), newValue);
+	}
+}
@@ -0,0 +1,572 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ProcessingTemporalWithDateJoinDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "APPROVAL_STATUS,ACTIVE,IN_UTC,OUT_UTC";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.APPROVAL_STATUS,t0.ACTIVE,t0.IN_UTC,t0.OUT_UTC";
+	private static final String PK_WITH_ALIAS = "t0.BUSINESS_DATE = ? AND t0.INVESTMENT_ID = ? AND t0.ENTITY = ?";
+	private static final String PK_INDEX_COLS = "BUSINESS_DATE,INVESTMENT_ID,ENTITY";
+	protected ProcessingTemporalWithDateJoinDatabaseObjectAbstract()
+	{
+		super("ProcessingTemporalWithDateJoin", "com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoinFinder",
+			7, 7,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ProcessingTemporalWithDateJoinFinder.getFinderInstance();
+	}
+
+	public static ProcessingTemporalWithDateJoinData allocateOnHeapData()
+	{
+		return new ProcessingTemporalWithDateJoinData.ProcessingTemporalWithDateJoinDataOnHeap();
+	}
+
+	public static ProcessingTemporalWithDateJoinData allocateOffHeapData()
+	{
+		return new ProcessingTemporalWithDateJoinData.ProcessingTemporalWithDateJoinDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ProcessingTemporalWithDateJoinData.ProcessingTemporalWithDateJoinDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ProcessingTemporalWithDateJoinFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ProcessingTemporalWithDateJoinData data = new ProcessingTemporalWithDateJoinData.ProcessingTemporalWithDateJoinDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ProcessingTemporalWithDateJoinFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(ProcessingTemporalWithDateJoinData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoin", ProcessingTemporalWithDateJoinFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("ProcessingTemporalWithDateJoin"));
+			ProcessingTemporalWithDateJoinData.ProcessingTemporalWithDateJoinDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(ProcessingTemporalWithDateJoinFinder.getPrimaryKeyAttributes(), ProcessingTemporalWithDateJoinFinder.getAsOfAttributes(), this, ProcessingTemporalWithDateJoinFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(ProcessingTemporalWithDateJoinFinder.getPrimaryKeyAttributes(), ProcessingTemporalWithDateJoinFinder.getAsOfAttributes(), this, ProcessingTemporalWithDateJoinFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(ProcessingTemporalWithDateJoinFinder.getPrimaryKeyAttributes(), ProcessingTemporalWithDateJoinFinder.getAsOfAttributes(), this, ProcessingTemporalWithDateJoinFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(ProcessingTemporalWithDateJoinFinder.getPrimaryKeyAttributes(), ProcessingTemporalWithDateJoinFinder.getAsOfAttributes(), this, ProcessingTemporalWithDateJoinFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(ProcessingTemporalWithDateJoinFinder.getPrimaryKeyAttributes(), ProcessingTemporalWithDateJoinFinder.getAsOfAttributes(), this, ProcessingTemporalWithDateJoinFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(ProcessingTemporalWithDateJoinData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoin", ProcessingTemporalWithDateJoinFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			ProcessingTemporalWithDateJoinData.ProcessingTemporalWithDateJoinDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(ProcessingTemporalWithDateJoinFinder.getPrimaryKeyAttributes(), ProcessingTemporalWithDateJoinFinder.getAsOfAttributes(), this, ProcessingTemporalWithDateJoinFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(ProcessingTemporalWithDateJoinFinder.getPrimaryKeyAttributes(), ProcessingTemporalWithDateJoinFinder.getAsOfAttributes(), this, ProcessingTemporalWithDateJoinFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ProcessingTemporalWithDateJoinFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ProcessingTemporalWithDateJoinFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ProcessingTemporalWithDateJoin.zConfigFullTx();
+		}
+		else
+		{
+			ProcessingTemporalWithDateJoin.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateProcessingTemporalWithDateJoinData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkProcessingTemporalWithDateJoinData(1, (ProcessingTemporalWithDateJoinData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateProcessingTemporalWithDateJoinPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getProcessingTemporalWithDateJoinTableName();
+	}
+
+	public String getProcessingTemporalWithDateJoinTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ProcessingTemporalWithDateJoinData data = (ProcessingTemporalWithDateJoinData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.UtcTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ProcessingTemporalWithDateJoinData data = (ProcessingTemporalWithDateJoinData)dataObj;
+		TimeZone conversionTimeZone = null;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		stm.setInt(pos++, data.getInvestmentId());
+		stm.setString(pos++, data.getEntity());
+		conversionTimeZone = MithraTimestamp.UtcTimeZone;
+		if (data.getProcessingDateTo().getTime() == ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "BUSINESS_DATE = ? AND INVESTMENT_ID = ? AND ENTITY = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.BUSINESS_DATE,t0.INVESTMENT_ID,t0.ENTITY,t0.APPROVAL_STATUS,t0.ACTIVE,t0.IN_UTC,t0.OUT_UTC";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*7);
+		result.append(databaseAlias).append(".").append("BUSINESS_DATE");
+		result.append(",").append(databaseAlias).append(".").append("INVESTMENT_ID");
+		result.append(",").append(databaseAlias).append(".").append("ENTITY");
+		result.append(",").append(databaseAlias).append(".").append("APPROVAL_STATUS");
+		result.append(",").append(databaseAlias).append(".").append("ACTIVE");
+		result.append(",").append(databaseAlias).append(".").append("IN_UTC");
+		result.append(",").append(databaseAlias).append(".").append("OUT_UTC");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ProcessingTemporalWithDateJoinData inflateProcessingTemporalWithDateJoinData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ProcessingTemporalWithDateJoinData data = inflateProcessingTemporalWithDateJoinPkData(rs, dt);
+		inflateNonPkProcessingTemporalWithDateJoinData(4, data, rs, dt);
+		return data;
+	}
+
+	public ProcessingTemporalWithDateJoinData inflateProcessingTemporalWithDateJoinPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ProcessingTemporalWithDateJoinData _data = new ProcessingTemporalWithDateJoinData.ProcessingTemporalWithDateJoinDataOnHeap();
+		int _pos = 1;
+		Timestamp businessDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setBusinessDate(businessDatetimestampValue);
+		_data.setInvestmentId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "investmentId");
+		_data.setEntity(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkProcessingTemporalWithDateJoinData(int _pos, ProcessingTemporalWithDateJoinData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ProcessingTemporalWithDateJoinData _data = _datax;
+			_data.setApprovalStatus(trimString(_rs.getString(_pos++)));
+			_data.setActive(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setActiveNull();
+			}
+
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.UtcTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.UtcTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.UtcTimeZone,
+				ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getProcessingTemporalWithDateJoinTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "PROCESSING_TEMPORAL_WITH_DATE_JOIN";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ProcessingTemporalWithDateJoinData data = (ProcessingTemporalWithDateJoinData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isBusinessDateNull())
+		{
+			throwNullAttribute("businessDate");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		stm.setInt(pos++, data.getInvestmentId());
+		if(data.isEntityNull())
+		{
+			throwNullAttribute("entity");
+		}
+
+		stm.setString(pos++, data.getEntity());
+		if (data.isApprovalStatusNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getApprovalStatus());
+		}
+
+		if (data.isActiveNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getActive());
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.UtcTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.UtcTimeZone;
+		if (data.getProcessingDateTo().getTime() == ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "BUSINESS_DATE,INVESTMENT_ID,ENTITY,APPROVAL_STATUS,ACTIVE,IN_UTC,OUT_UTC";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_UTC = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		ProcessingTemporalWithDateJoin newObject = new ProcessingTemporalWithDateJoin(asOfDates[0]
+		);
+		newObject.zSetFromProcessingTemporalWithDateJoinData((ProcessingTemporalWithDateJoinData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new AuditOnlyTransactionalDataContainer(tx.getPerPortalTemporalContainer(ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal(),
+			ProcessingTemporalWithDateJoinFinder.processingDate())
+		);
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_UTC = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ProcessingTemporalWithDateJoinData data = (ProcessingTemporalWithDateJoinData)dataObject;
+		TimeZone conversionTimeZone = null;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		stm.setInt(pos++, data.getInvestmentId());
+		stm.setString(pos++, data.getEntity());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		throw new RuntimeException("not implemented");
+	}
+}
@@ -0,0 +1,943 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProcessingTemporalWithDateJoinFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ProcessingTemporalWithDateJoin";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoin";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoin");
+	private static final ProcessingTemporalWithDateJoinSingleFinder<ProcessingTemporalWithDateJoin, Object, ProcessingTemporalWithDateJoin> finder = new ProcessingTemporalWithDateJoinSingleFinder<ProcessingTemporalWithDateJoin, Object, ProcessingTemporalWithDateJoin>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ProcessingTemporalWithDateJoinFinder.ProcessingTemporalWithDateJoinRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("investmentId");
+		finderMethodMap.addNormalAttributeName("entity");
+		finderMethodMap.addNormalAttributeName("approvalStatus");
+		finderMethodMap.addNormalAttributeName("active");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("bitemporalWithDateJoin");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = ProcessingTemporalWithDateJoinFinder.investmentId().constructEqualityMapper(BitemporalWithDateJoinFinder.investmentId());
+			result[1] = BitemporalWithDateJoinFinder.investmentId().constructEqualityMapper(ProcessingTemporalWithDateJoinFinder.investmentId());
+			result[2] = ProcessingTemporalWithDateJoinFinder.entity().constructEqualityMapper(BitemporalWithDateJoinFinder.gsEntity());
+			result[3] = BitemporalWithDateJoinFinder.gsEntity().constructEqualityMapper(ProcessingTemporalWithDateJoinFinder.entity());
+			result[4] = ProcessingTemporalWithDateJoinFinder.businessDate().constructEqualityMapper(BitemporalWithDateJoinFinder.businessDate());
+			result[5] = BitemporalWithDateJoinFinder.businessDate().constructEqualityMapper(ProcessingTemporalWithDateJoinFinder.businessDate());
+			result[6] = ProcessingTemporalWithDateJoinFinder.processingDate().constructEqualityMapper(BitemporalWithDateJoinFinder.processingDate());
+			result[7] = BitemporalWithDateJoinFinder.processingDate().constructEqualityMapper(ProcessingTemporalWithDateJoinFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = ProcessingTemporalWithDateJoinFinder.active().eq(1);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ProcessingTemporalWithDateJoin findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ProcessingTemporalWithDateJoin findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ProcessingTemporalWithDateJoinList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ProcessingTemporalWithDateJoinList) finder.findMany(operation);
+	}
+
+	public static ProcessingTemporalWithDateJoinList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ProcessingTemporalWithDateJoinList) finder.findManyBypassCache(operation);
+	}
+
+	private static ProcessingTemporalWithDateJoin findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ProcessingTemporalWithDateJoin) FinderUtils.findOne(found);
+	}
+
+	public static ProcessingTemporalWithDateJoin findByPrimaryKey(Timestamp businessDate, int investmentId, String entity, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(businessDate, investmentId, entity, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProcessingTemporalWithDateJoinData _castedTargetData = (ProcessingTemporalWithDateJoinData) _targetData;
+			if (_bean.getO1AsTimestamp().equals(_castedTargetData.getBusinessDate()) && _bean.getI1AsInteger() == _castedTargetData.getInvestmentId() && _bean.getO2AsString().equals(_castedTargetData.getEntity()))
+			{
+				return ProcessingTemporalWithDateJoinFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsTimestamp()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsTimestamp()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static ProcessingTemporalWithDateJoin zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ProcessingTemporalWithDateJoin) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ProcessingTemporalWithDateJoinRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ProcessingTemporalWithDateJoin, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private TimestampAttribute<ParentOwnerType> businessDate;
+		private IntegerAttribute<ParentOwnerType> investmentId;
+		private StringAttribute<ParentOwnerType> entity;
+		private StringAttribute<ParentOwnerType> approvalStatus;
+		private IntegerAttribute<ParentOwnerType> active;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ProcessingTemporalWithDateJoinBitemporalWithDateJoinFinderSubclass<ParentOwnerType> bitemporalWithDateJoin;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ProcessingTemporalWithDateJoinRelatedFinder()
+		{
+			super();
+		}
+
+		public ProcessingTemporalWithDateJoinRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoinFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ProcessingTemporalWithDateJoinFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ProcessingTemporalWithDateJoinFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ProcessingTemporalWithDateJoinFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.businessDate();
+			attributes[1] = this.investmentId();
+			attributes[2] = this.entity();
+			attributes[3] = this.approvalStatus();
+			attributes[4] = this.active();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.bitemporalWithDateJoin());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ProcessingTemporalWithDateJoin findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ProcessingTemporalWithDateJoinFinder.findOne(operation, false);
+		}
+
+		public ProcessingTemporalWithDateJoin findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ProcessingTemporalWithDateJoinFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ProcessingTemporalWithDateJoin> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ProcessingTemporalWithDateJoinList((Operation) operation);
+		}
+
+		public MithraList<? extends ProcessingTemporalWithDateJoin> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ProcessingTemporalWithDateJoinList result = (ProcessingTemporalWithDateJoinList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ProcessingTemporalWithDateJoin> constructEmptyList()
+		{
+			return new ProcessingTemporalWithDateJoinList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1602411389;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("BUSINESS_DATE","","businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,8,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ProcessingTemporalWithDateJoinFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> investmentId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.investmentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INVESTMENT_ID","","investmentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,20,-1,-1,false, false) :
+					new MappedIntegerAttribute(ProcessingTemporalWithDateJoinFinder.investmentId(), this.mapper, this.zGetValueSelector());
+				this.investmentId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> entity()
+		{
+			StringAttribute<ParentOwnerType> result = this.entity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ENTITY","","entity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,16,-1,-1,5,true, false) :
+					new MappedStringAttribute(ProcessingTemporalWithDateJoinFinder.entity(), this.mapper, this.zGetValueSelector());
+				this.entity = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> approvalStatus()
+		{
+			StringAttribute<ParentOwnerType> result = this.approvalStatus;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("APPROVAL_STATUS","","approvalStatus",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,28,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(ProcessingTemporalWithDateJoinFinder.approvalStatus(), this.mapper, this.zGetValueSelector());
+				this.approvalStatus = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> active()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.active;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ACTIVE","","active",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,24,4,0,false, false) :
+					new MappedIntegerAttribute(ProcessingTemporalWithDateJoinFinder.active(), this.mapper, this.zGetValueSelector());
+				this.active = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_UTC","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,ProcessingTemporalWithDateJoinFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProcessingTemporalWithDateJoinFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_UTC","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,ProcessingTemporalWithDateJoinFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProcessingTemporalWithDateJoinFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ProcessingTemporalWithDateJoinFinder.processingDateInfinity,false,false,ProcessingTemporalWithDateJoinFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ProcessingTemporalWithDateJoinFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalWithDateJoinFinder.BitemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, BitemporalWithDateJoin, ProcessingTemporalWithDateJoin> bitemporalWithDateJoin()
+		{
+			ProcessingTemporalWithDateJoinBitemporalWithDateJoinFinderSubclass<ParentOwnerType> result = this.bitemporalWithDateJoin;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProcessingTemporalWithDateJoinFinder.zGetProcessingTemporalWithDateJoinBitemporalWithDateJoinReverseMapper());
+				newMapper.setToMany(false);
+				result = new ProcessingTemporalWithDateJoinBitemporalWithDateJoinFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.bitemporalWithDateJoin = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ProcessingTemporalWithDateJoinFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ProcessingTemporalWithDateJoinCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ProcessingTemporalWithDateJoinRelatedFinder<ParentOwnerType, ReturnType, ProcessingTemporalWithDateJoinList, OwnerType>
+	{
+		public ProcessingTemporalWithDateJoinCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ProcessingTemporalWithDateJoinCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ProcessingTemporalWithDateJoinCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProcessingTemporalWithDateJoinCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ProcessingTemporalWithDateJoinSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ProcessingTemporalWithDateJoinRelatedFinder<ParentOwnerType, ReturnType, ProcessingTemporalWithDateJoinList, OwnerType>
+	implements ToOneFinder
+	{
+		public ProcessingTemporalWithDateJoinSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ProcessingTemporalWithDateJoinSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ProcessingTemporalWithDateJoin other)
+		{
+			return this.businessDate().eq(other.getBusinessDate())
+			.and(this.investmentId().eq(other.getInvestmentId()))
+			.and(this.entity().eq(other.getEntity()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ProcessingTemporalWithDateJoin findByPrimaryKey(Timestamp businessDate, int investmentId, String entity, Timestamp processingDate)
+		{
+			ProcessingTemporalWithDateJoin _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (businessDate != null && entity != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(businessDate);
+				_bean.setI1AsInteger(investmentId);
+				_bean.setO2(entity);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ProcessingTemporalWithDateJoin) _related;
+			if (_related == null)
+			{
+				_op = this.businessDate().eq(businessDate).and(this.investmentId().eq(investmentId)).and(this.entity().eq(entity)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ProcessingTemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ProcessingTemporalWithDateJoinSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProcessingTemporalWithDateJoinSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper bitemporalWithDateJoinReverseMapper = null;
+	public static Mapper zGetProcessingTemporalWithDateJoinBitemporalWithDateJoinReverseMapper()
+	{
+		if (bitemporalWithDateJoinReverseMapper == null)
+		{
+			bitemporalWithDateJoinReverseMapper = zConstructProcessingTemporalWithDateJoinBitemporalWithDateJoinReverseMapper();
+		}
+
+		return bitemporalWithDateJoinReverseMapper;
+	}
+
+	private static Mapper bitemporalWithDateJoinMapper = null;
+	public static Mapper zGetProcessingTemporalWithDateJoinBitemporalWithDateJoinMapper()
+	{
+		if (bitemporalWithDateJoinMapper == null)
+		{
+			bitemporalWithDateJoinMapper = zConstructProcessingTemporalWithDateJoinBitemporalWithDateJoinMapper();
+		}
+
+		return bitemporalWithDateJoinMapper;
+	}
+
+	private static Mapper bitemporalWithDateJoinPureReverseMapper = null;
+	public static Mapper zGetProcessingTemporalWithDateJoinBitemporalWithDateJoinPureReverseMapper()
+	{
+		if (bitemporalWithDateJoinPureReverseMapper == null)
+		{
+			bitemporalWithDateJoinPureReverseMapper = zConstructProcessingTemporalWithDateJoinBitemporalWithDateJoinPureReverseMapper();
+		}
+
+		return bitemporalWithDateJoinPureReverseMapper;
+	}
+
+	private static Mapper zConstructProcessingTemporalWithDateJoinBitemporalWithDateJoinPureReverseMapper()
+	{
+		InternalList bitemporalWithDateJoinMapperMapperList = new InternalList(4);
+		bitemporalWithDateJoinMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(0));
+		bitemporalWithDateJoinMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(2));
+		bitemporalWithDateJoinMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(4));
+		bitemporalWithDateJoinMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(6));
+		Mapper bitemporalWithDateJoinMapper = new MultiEqualityMapper(bitemporalWithDateJoinMapperMapperList);
+		bitemporalWithDateJoinMapper.setName("bitemporalWithDateJoin");
+		return bitemporalWithDateJoinMapper;
+	}
+
+	private static Mapper zConstructProcessingTemporalWithDateJoinBitemporalWithDateJoinReverseMapper()
+	{
+		InternalList bitemporalWithDateJoinMapperInnerMapperMapperList = new InternalList(4);
+		bitemporalWithDateJoinMapperInnerMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(0));
+		bitemporalWithDateJoinMapperInnerMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(2));
+		bitemporalWithDateJoinMapperInnerMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(4));
+		bitemporalWithDateJoinMapperInnerMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(6));
+		Mapper bitemporalWithDateJoinMapperInnerMapper = new MultiEqualityMapper(bitemporalWithDateJoinMapperInnerMapperMapperList);
+		Mapper bitemporalWithDateJoinMapper = new FilteredMapper(bitemporalWithDateJoinMapperInnerMapper, ProcessingTemporalWithDateJoinFinder.zGetConstantOperation(0), null);
+		bitemporalWithDateJoinMapper.setName("bitemporalWithDateJoin");
+		return bitemporalWithDateJoinMapper;
+	}
+
+	private static Mapper zConstructProcessingTemporalWithDateJoinBitemporalWithDateJoinMapper()
+	{
+		InternalList bitemporalWithDateJoinMapperInnerMapperMapperList = new InternalList(4);
+		bitemporalWithDateJoinMapperInnerMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(1));
+		bitemporalWithDateJoinMapperInnerMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(3));
+		bitemporalWithDateJoinMapperInnerMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(5));
+		bitemporalWithDateJoinMapperInnerMapperMapperList.add(ProcessingTemporalWithDateJoinFinder.zGetConstantJoin(7));
+		Mapper bitemporalWithDateJoinMapperInnerMapper = new MultiEqualityMapper(bitemporalWithDateJoinMapperInnerMapperMapperList);
+		Mapper bitemporalWithDateJoinMapper = new FilteredMapper(bitemporalWithDateJoinMapperInnerMapper, null, ProcessingTemporalWithDateJoinFinder.zGetConstantOperation(0));
+		bitemporalWithDateJoinMapper.setName("processingTemporalWithDateJoin");
+		return bitemporalWithDateJoinMapper;
+	}
+
+	/** maps to PROCESSING_TEMPORAL_WITH_DATE_JOIN.BUSINESS_DATE **/
+	public static TimestampAttribute<ProcessingTemporalWithDateJoin> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	/** maps to PROCESSING_TEMPORAL_WITH_DATE_JOIN.INVESTMENT_ID **/
+	public static IntegerAttribute<ProcessingTemporalWithDateJoin> investmentId()
+	{
+		return finder.investmentId();
+	}
+
+	/** maps to PROCESSING_TEMPORAL_WITH_DATE_JOIN.ENTITY **/
+	public static StringAttribute<ProcessingTemporalWithDateJoin> entity()
+	{
+		return finder.entity();
+	}
+
+	/** maps to PROCESSING_TEMPORAL_WITH_DATE_JOIN.APPROVAL_STATUS **/
+	public static StringAttribute<ProcessingTemporalWithDateJoin> approvalStatus()
+	{
+		return finder.approvalStatus();
+	}
+
+	/** maps to PROCESSING_TEMPORAL_WITH_DATE_JOIN.ACTIVE **/
+	public static IntegerAttribute<ProcessingTemporalWithDateJoin> active()
+	{
+		return finder.active();
+	}
+
+	/** maps to PROCESSING_TEMPORAL_WITH_DATE_JOIN.IN_UTC **/
+	public static TimestampAttribute<ProcessingTemporalWithDateJoin> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to PROCESSING_TEMPORAL_WITH_DATE_JOIN.OUT_UTC **/
+	public static TimestampAttribute<ProcessingTemporalWithDateJoin> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ProcessingTemporalWithDateJoin> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static BitemporalWithDateJoinFinder.BitemporalWithDateJoinSingleFinderForRelatedClasses<ProcessingTemporalWithDateJoin, BitemporalWithDateJoin, ProcessingTemporalWithDateJoin> bitemporalWithDateJoin()
+	{
+		return finder.bitemporalWithDateJoin();
+	}
+
+	public static class ProcessingTemporalWithDateJoinBitemporalWithDateJoinFinderSubclass<ParentOwnerType> extends BitemporalWithDateJoinFinder.BitemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, BitemporalWithDateJoin, ProcessingTemporalWithDateJoin>
+	{
+		public ProcessingTemporalWithDateJoinBitemporalWithDateJoinFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "bitemporalWithDateJoin";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalWithDateJoinFinder.investmentId(),
+				BitemporalWithDateJoinFinder.gsEntity(),
+				BitemporalWithDateJoinFinder.businessDate(),
+				BitemporalWithDateJoinFinder.processingDate()).withExtractors(
+				ProcessingTemporalWithDateJoinFinder.investmentId(),
+				ProcessingTemporalWithDateJoinFinder.entity(),
+				ProcessingTemporalWithDateJoinFinder.businessDate(),
+				ProcessingTemporalWithDateJoinFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProcessingTemporalWithDateJoinBitemporalWithDateJoinFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalWithDateJoin plainValueOf(ProcessingTemporalWithDateJoin _obj)
+		{
+			return _obj.getBitemporalWithDateJoin();
+		}
+
+		protected BitemporalWithDateJoinList plainListValueOf(Object _obj)
+		{
+			return ((ProcessingTemporalWithDateJoinList)_obj).getBitemporalWithDateJoins();
+		}
+	}
+
+	public static Operation eq(ProcessingTemporalWithDateJoin other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(businessDate());
+	}
+
+	public static ProcessingTemporalWithDateJoinSingleFinder<ProcessingTemporalWithDateJoin, Object, ProcessingTemporalWithDateJoin> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			businessDate()
+			, investmentId()
+			, entity()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			businessDate()
+			, businessDate()
+			, investmentId()
+			, entity()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			active()
+			, businessDate()
+			, entity()
+			, investmentId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoin");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
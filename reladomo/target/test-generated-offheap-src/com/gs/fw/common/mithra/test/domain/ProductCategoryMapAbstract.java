@@ -0,0 +1,255 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ProductCategoryMapAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String acmapCode;
+	private int categoryId;
+	private int profileTypeId;
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isCategoryIdNull()
+	{
+		return false;
+	}
+
+	public boolean isProfileTypeIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.acmapCode);
+		out.writeInt(this.categoryId);
+		out.writeInt(this.profileTypeId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ProductCategoryMapData data = new ProductCategoryMapData();
+		data.setAcmapCode(acmapCode);
+		data.setCategoryId(categoryId);
+		data.setProfileTypeId(profileTypeId);
+		return data;
+	}
+
+	public ProductCategoryMap getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ProductCategoryMapAbstract copy = (ProductCategoryMapAbstract) ProductCategoryMapFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ProductCategoryMap)copy;
+	}
+
+	protected void zSetFromProductCategoryMapData(ProductCategoryMapData data)
+	{
+		this.setFromProductCategoryMapData(data);
+	}
+
+	public void setFromProductCategoryMapData(ProductCategoryMapData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		acmapCode = data.getAcmapCode();
+		categoryId = data.getCategoryId();
+		profileTypeId = data.getProfileTypeId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProductCategoryMapFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromProductCategoryMapData((ProductCategoryMapData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, ProductCategoryMapFinder.isFullCache());
+	}
+
+	public int getCategoryId()
+	{
+		return this.categoryId;
+	}
+
+	public void setCategoryId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.categoryId = value;
+	}
+
+	public int getProfileTypeId()
+	{
+		return this.profileTypeId;
+	}
+
+	public void setProfileTypeId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.profileTypeId = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ProductCategoryMapData productCategoryMapData = (ProductCategoryMapData) newData;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(productCategoryMapData.getAcmapCode()) : !productCategoryMapData.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+		result += "categoryId: "+(""+getCategoryId())+ " / ";
+		result += "profileTypeId: "+(""+getProfileTypeId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeInt(this.categoryId);
+			out.writeInt(this.profileTypeId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductCategoryMapFinder.isFullCache());
+			this.categoryId = in.readInt();
+			this.profileTypeId = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.categoryId = in.readInt();
+			this.profileTypeId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ProductCategoryMapFinder.profileTypeId().eq(this.getProfileTypeId());
+			op = op.and(ProductCategoryMapFinder.categoryId().eq(this.getCategoryId()));
+			return ProductCategoryMapFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
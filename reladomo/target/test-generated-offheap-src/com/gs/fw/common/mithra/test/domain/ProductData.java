@@ -0,0 +1,471 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProductData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private float dailyProductionRate;
+	private int manufacturerId;
+	private String productCode;
+	private String productDescription;
+	private int productId;
+	public boolean isProductCodeNull()
+	{
+		return this.getProductCode() == null;
+	}
+
+	public boolean isProductDescriptionNull()
+	{
+		return this.getProductDescription() == null;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isManufacturerIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isDailyProductionRateNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeFloat(this.dailyProductionRate);
+		out.writeInt(this.manufacturerId);
+		out.writeObject(this.productCode);
+		out.writeObject(this.productDescription);
+		out.writeInt(this.productId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public float getDailyProductionRate()
+	{
+		return this.dailyProductionRate;
+	}
+
+	public void setDailyProductionRate(float value)
+	{
+		this.dailyProductionRate = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getManufacturerId()
+	{
+		return this.manufacturerId;
+	}
+
+	public void setManufacturerId(int value)
+	{
+		this.manufacturerId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getProductCode()
+	{
+		return this.productCode;
+	}
+
+	public int zGetProductCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(productCode);
+	}
+
+	public void setProductCode(String value)
+	{
+		this.productCode = StringPool.getInstance().getOrAddToCache(value, ProductFinder.isFullCache());
+	}
+
+	public void setProductCodeNull()
+	{
+		this.setProductCode(null);
+	}
+
+	public String getProductDescription()
+	{
+		return this.productDescription;
+	}
+
+	public int zGetProductDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(productDescription);
+	}
+
+	public void setProductDescription(String value)
+	{
+		this.productDescription = StringPool.getInstance().getOrAddToCache(value, ProductFinder.isFullCache());
+	}
+
+	public void setProductDescriptionNull()
+	{
+		this.setProductDescription(null);
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+	}
+
+	public void setProductIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void setManufacturerIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setDailyProductionRateNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ProductData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.dailyProductionRate = this.dailyProductionRate;
+		copy.manufacturerId = this.manufacturerId;
+		copy.productCode = this.productCode;
+		copy.productDescription = this.productDescription;
+		copy.productId = this.productId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[3];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.dailyProductionRate = in.readFloat();
+		this.manufacturerId = in.readInt();
+		this.productCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductFinder.isFullCache());
+		this.productDescription = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductFinder.isFullCache());
+		this.productId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ProductData otherData = (ProductData) other;
+		if (getProductId() != otherData.getProductId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.productId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.productId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getSynonyms()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setSynonyms(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public Object getCusOrFooSynonyms()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setCusOrFooSynonyms(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public Object getCusipSynonym()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setCusipSynonym(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ProductData productData = (ProductData) newData;
+		this.setDailyProductionRate(productData.getDailyProductionRate());
+		if (productData.isDailyProductionRateNull()) this.setDailyProductionRateNull();
+		this.setManufacturerId(productData.getManufacturerId());
+		if (productData.isManufacturerIdNull()) this.setManufacturerIdNull();
+		this.setProductCode(productData.getProductCode());
+		this.setProductDescription(productData.getProductDescription());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ProductData other = (ProductData) newData;
+		if ( isDailyProductionRateNull() != other.isDailyProductionRateNull() || Math.abs(getDailyProductionRate() - other.getDailyProductionRate()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isManufacturerIdNull() != other.isManufacturerIdNull() || getManufacturerId() != other.getManufacturerId())
+		{
+			return true;
+		}
+
+		if (!isProductCodeNull() ? !getProductCode().equals(other.getProductCode()) : !other.isProductCodeNull())
+		{
+			return true;
+		}
+
+		if (!isProductDescriptionNull() ? !getProductDescription().equals(other.getProductDescription()) : !other.isProductDescriptionNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ProductData copy = new ProductData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ProductData copy = new ProductData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "productId: "+(""+getProductId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ProductData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ProductFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ProductFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ProductData";
+	}
+}
@@ -0,0 +1,1284 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProductFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Product";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Product";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Product");
+	private static final ProductSingleFinder<Product, Object, Product> finder = new ProductSingleFinder<Product, Object, Product>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ProductFinder.ProductRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("productCode");
+		finderMethodMap.addNormalAttributeName("productDescription");
+		finderMethodMap.addNormalAttributeName("manufacturerId");
+		finderMethodMap.addNormalAttributeName("dailyProductionRate");
+		finderMethodMap.addRelationshipName("synonyms");
+		finderMethodMap.addRelationshipName("cusOrFooSynonyms");
+		finderMethodMap.addRelationshipName("cusipSynonym");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = ProductFinder.productId().constructEqualityMapper(ProductSynonymFinder.productId());
+			result[1] = ProductSynonymFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			result[2] = ProductFinder.productId().constructEqualityMapper(PositionQuantityFinder.productId());
+			result[3] = PositionQuantityFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Product findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Product findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ProductList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ProductList) finder.findMany(operation);
+	}
+
+	public static ProductList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ProductList) finder.findManyBypassCache(operation);
+	}
+
+	private static Product findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Product) FinderUtils.findOne(found);
+	}
+
+	public static Product findByPrimaryKey(int productId)
+	{
+		return finder.findByPrimaryKey(productId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Product zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Product) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ProductRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Product, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private StringAttribute<ParentOwnerType> productCode;
+		private StringAttribute<ParentOwnerType> productDescription;
+		private IntegerAttribute<ParentOwnerType> manufacturerId;
+		private FloatAttribute<ParentOwnerType> dailyProductionRate;
+		private ProductSynonymsFinderSubclass<ParentOwnerType> synonyms;
+		private ProductCusOrFooSynonymsFinderSubclass<ParentOwnerType> cusOrFooSynonyms;
+		private ProductCusipSynonymFinderSubclass<ParentOwnerType> cusipSynonym;
+		public ProductRelatedFinder()
+		{
+			super();
+		}
+
+		public ProductRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProductFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ProductFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ProductFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ProductFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.productId();
+			attributes[1] = this.productCode();
+			attributes[2] = this.productDescription();
+			attributes[3] = this.manufacturerId();
+			attributes[4] = this.dailyProductionRate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.synonyms());
+				relatedFinders.add(this.cusOrFooSynonyms());
+				relatedFinders.add(this.cusipSynonym());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Product findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ProductFinder.findOne(operation, false);
+		}
+
+		public Product findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ProductFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Product> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ProductList((Operation) operation);
+		}
+
+		public MithraList<? extends Product> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ProductList result = (ProductList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Product> constructEmptyList()
+		{
+			return new ProductList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1063124234;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ProductFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.productCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CODE","","productCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(ProductFinder.productCode(), this.mapper, this.zGetValueSelector());
+				this.productCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productDescription()
+		{
+			StringAttribute<ParentOwnerType> result = this.productDescription;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_DESC","","productDescription",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(ProductFinder.productDescription(), this.mapper, this.zGetValueSelector());
+				this.productDescription = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> manufacturerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.manufacturerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("MANUFACTURER_ID","","manufacturerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ProductFinder.manufacturerId(), this.mapper, this.zGetValueSelector());
+				this.manufacturerId = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> dailyProductionRate()
+		{
+			FloatAttribute<ParentOwnerType> result = this.dailyProductionRate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("DAILY_PRODUCTION_RATE","","dailyProductionRate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(ProductFinder.dailyProductionRate(), this.mapper, this.zGetValueSelector());
+				this.dailyProductionRate = result;
+			}
+
+			return result;
+		}
+
+		public ProductSynonymFinder.ProductSynonymCollectionFinderForRelatedClasses<ParentOwnerType, ProductSynonymList, Product> synonyms()
+		{
+			ProductSynonymsFinderSubclass<ParentOwnerType> result = this.synonyms;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProductFinder.zGetProductSynonymsReverseMapper());
+				newMapper.setToMany(true);
+				result = new ProductSynonymsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.synonyms = result;
+			}
+
+			return result;
+		}
+
+		public ProductSynonymFinder.ProductSynonymSingleFinderForRelatedClasses<ParentOwnerType, ProductSynonym, Product> cusOrFooSynonyms()
+		{
+			ProductCusOrFooSynonymsFinderSubclass<ParentOwnerType> result = this.cusOrFooSynonyms;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProductFinder.zGetProductCusOrFooSynonymsReverseMapper());
+				newMapper.setToMany(false);
+				result = new ProductCusOrFooSynonymsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.cusOrFooSynonyms = result;
+			}
+
+			return result;
+		}
+
+		public ProductSynonymFinder.ProductSynonymSingleFinderForRelatedClasses<ParentOwnerType, ProductSynonym, Product> synonymByType(String synonymType)
+		{
+			ProductSynonymByTypeFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(ProductFinder.zGetProductSynonymByTypeReverseMapper(synonymType));
+			newMapper.setToMany(false);
+			result = new ProductSynonymByTypeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,synonymType);
+			return result;
+		}
+
+		public ProductSynonymFinder.ProductSynonymCollectionFinderForRelatedClasses<ParentOwnerType, ProductSynonymList, Product> synonymByTypes(Set<String> synonymTypes)
+		{
+			ProductSynonymByTypesFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(ProductFinder.zGetProductSynonymByTypesReverseMapper(synonymTypes));
+			newMapper.setToMany(true);
+			result = new ProductSynonymByTypesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,synonymTypes);
+			return result;
+		}
+
+		public ProductSynonymFinder.ProductSynonymSingleFinderForRelatedClasses<ParentOwnerType, ProductSynonym, Product> cusipSynonym()
+		{
+			ProductCusipSynonymFinderSubclass<ParentOwnerType> result = this.cusipSynonym;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProductFinder.zGetProductCusipSynonymReverseMapper());
+				newMapper.setToMany(false);
+				result = new ProductCusipSynonymFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.cusipSynonym = result;
+			}
+
+			return result;
+		}
+
+		public PositionQuantityFinder.PositionQuantityCollectionFinderForRelatedClasses<ParentOwnerType, PositionQuantityList, Product> positions(String acmap, Timestamp buzDate)
+		{
+			ProductPositionsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(ProductFinder.zGetProductPositionsReverseMapper(acmap, buzDate));
+			newMapper.setToMany(true);
+			result = new ProductPositionsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,acmap, buzDate);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ProductFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ProductFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ProductCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ProductRelatedFinder<ParentOwnerType, ReturnType, ProductList, OwnerType>
+	{
+		public ProductCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ProductCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ProductCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProductCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ProductSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ProductRelatedFinder<ParentOwnerType, ReturnType, ProductList, OwnerType>
+	implements ToOneFinder
+	{
+		public ProductSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ProductSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Product other)
+		{
+			return this.productId().eq(other.getProductId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Product findByPrimaryKey(int productId)
+		{
+			Product _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(productId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+			if (_related == null)
+			{
+				_op = this.productId().eq(productId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ProductSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ProductSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProductSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper synonymsReverseMapper = null;
+	public static Mapper zGetProductSynonymsReverseMapper()
+	{
+		if (synonymsReverseMapper == null)
+		{
+			synonymsReverseMapper = zConstructProductSynonymsReverseMapper();
+		}
+
+		return synonymsReverseMapper;
+	}
+
+	private static Mapper synonymsMapper = null;
+	public static Mapper zGetProductSynonymsMapper()
+	{
+		if (synonymsMapper == null)
+		{
+			synonymsMapper = zConstructProductSynonymsMapper();
+		}
+
+		return synonymsMapper;
+	}
+
+	private static Mapper synonymsPureReverseMapper = null;
+	public static Mapper zGetProductSynonymsPureReverseMapper()
+	{
+		if (synonymsPureReverseMapper == null)
+		{
+			synonymsPureReverseMapper = zConstructProductSynonymsPureReverseMapper();
+		}
+
+		return synonymsPureReverseMapper;
+	}
+
+	private static Mapper zConstructProductSynonymsPureReverseMapper()
+	{
+		Mapper synonymsMapper = ProductFinder.zGetConstantJoin(0);
+		synonymsMapper.setName("synonyms");
+		return synonymsMapper;
+	}
+
+	private static Mapper zConstructProductSynonymsReverseMapper()
+	{
+		Mapper synonymsMapper = ProductFinder.zGetConstantJoin(0);
+		synonymsMapper.setName("synonyms");
+		return synonymsMapper;
+	}
+
+	private static Mapper zConstructProductSynonymsMapper()
+	{
+		Mapper synonymsMapper = ProductFinder.zGetConstantJoin(1);
+		synonymsMapper.setName("synonyms_Reverse");
+		return synonymsMapper;
+	}
+
+	private static Mapper cusOrFooSynonymsReverseMapper = null;
+	public static Mapper zGetProductCusOrFooSynonymsReverseMapper()
+	{
+		if (cusOrFooSynonymsReverseMapper == null)
+		{
+			cusOrFooSynonymsReverseMapper = zConstructProductCusOrFooSynonymsReverseMapper();
+		}
+
+		return cusOrFooSynonymsReverseMapper;
+	}
+
+	private static Mapper cusOrFooSynonymsMapper = null;
+	public static Mapper zGetProductCusOrFooSynonymsMapper()
+	{
+		if (cusOrFooSynonymsMapper == null)
+		{
+			cusOrFooSynonymsMapper = zConstructProductCusOrFooSynonymsMapper();
+		}
+
+		return cusOrFooSynonymsMapper;
+	}
+
+	private static Mapper cusOrFooSynonymsPureReverseMapper = null;
+	public static Mapper zGetProductCusOrFooSynonymsPureReverseMapper()
+	{
+		if (cusOrFooSynonymsPureReverseMapper == null)
+		{
+			cusOrFooSynonymsPureReverseMapper = zConstructProductCusOrFooSynonymsPureReverseMapper();
+		}
+
+		return cusOrFooSynonymsPureReverseMapper;
+	}
+
+	private static Mapper zConstructProductCusOrFooSynonymsPureReverseMapper()
+	{
+		Mapper cusOrFooSynonymsMapper = ProductFinder.zGetConstantJoin(0);
+		cusOrFooSynonymsMapper.setName("cusOrFooSynonyms");
+		return cusOrFooSynonymsMapper;
+	}
+
+	private static Mapper zConstructProductCusOrFooSynonymsReverseMapper()
+	{
+		Mapper cusOrFooSynonymsMapperInnerMapper = ProductFinder.zGetConstantJoin(0);
+		Mapper cusOrFooSynonymsMapper = new FilteredMapper(cusOrFooSynonymsMapperInnerMapper, null, ProductSynonymFinder.zGetConstantOperation(0));
+		cusOrFooSynonymsMapper.setName("cusOrFooSynonyms");
+		return cusOrFooSynonymsMapper;
+	}
+
+	private static Mapper zConstructProductCusOrFooSynonymsMapper()
+	{
+		Mapper cusOrFooSynonymsMapperInnerMapper = ProductFinder.zGetConstantJoin(1);
+		Mapper cusOrFooSynonymsMapper = new FilteredMapper(cusOrFooSynonymsMapperInnerMapper, ProductSynonymFinder.zGetConstantOperation(0), null);
+		cusOrFooSynonymsMapper.setName("cusOrFooSynonyms_Reverse");
+		return cusOrFooSynonymsMapper;
+	}
+
+	public static Mapper zGetProductSynonymByTypeReverseMapper(String synonymType)
+	{
+		return zConstructProductSynonymByTypeReverseMapper(synonymType);
+	}
+
+	public static Mapper zGetProductSynonymByTypeMapper(String synonymType)
+	{
+		return zConstructProductSynonymByTypeMapper(synonymType);
+	}
+
+	private static Mapper synonymByTypePureReverseMapper = null;
+	public static Mapper zGetProductSynonymByTypePureReverseMapper()
+	{
+		if (synonymByTypePureReverseMapper == null)
+		{
+			synonymByTypePureReverseMapper = zConstructProductSynonymByTypePureReverseMapper();
+		}
+
+		return synonymByTypePureReverseMapper;
+	}
+
+	private static Mapper zConstructProductSynonymByTypePureReverseMapper()
+	{
+		Mapper synonymByTypeMapper = ProductFinder.zGetConstantJoin(0);
+		synonymByTypeMapper.setName("synonymByType");
+		return synonymByTypeMapper;
+	}
+
+	private static Mapper zConstructProductSynonymByTypeReverseMapper(String synonymType)
+	{
+		Mapper synonymByTypeMapperInnerMapper = ProductFinder.zGetConstantJoin(0);
+		Mapper synonymByTypeMapper = new FilteredMapper(synonymByTypeMapperInnerMapper, null, ProductSynonymFinder.synonymType().eq(synonymType));
+		synonymByTypeMapper.setName("synonymByType");
+		return synonymByTypeMapper;
+	}
+
+	private static Mapper zConstructProductSynonymByTypeMapper(String synonymType)
+	{
+		Mapper synonymByTypeMapperInnerMapper = ProductFinder.zGetConstantJoin(1);
+		Mapper synonymByTypeMapper = new FilteredMapper(synonymByTypeMapperInnerMapper, ProductSynonymFinder.synonymType().eq(synonymType), null);
+		synonymByTypeMapper.setName("synonymByType_Reverse");
+		return synonymByTypeMapper;
+	}
+
+	public static Mapper zGetProductSynonymByTypesReverseMapper(Set<String> synonymTypes)
+	{
+		return zConstructProductSynonymByTypesReverseMapper(synonymTypes);
+	}
+
+	public static Mapper zGetProductSynonymByTypesMapper(Set<String> synonymTypes)
+	{
+		return zConstructProductSynonymByTypesMapper(synonymTypes);
+	}
+
+	private static Mapper synonymByTypesPureReverseMapper = null;
+	public static Mapper zGetProductSynonymByTypesPureReverseMapper()
+	{
+		if (synonymByTypesPureReverseMapper == null)
+		{
+			synonymByTypesPureReverseMapper = zConstructProductSynonymByTypesPureReverseMapper();
+		}
+
+		return synonymByTypesPureReverseMapper;
+	}
+
+	private static Mapper zConstructProductSynonymByTypesPureReverseMapper()
+	{
+		Mapper synonymByTypesMapper = ProductFinder.zGetConstantJoin(0);
+		synonymByTypesMapper.setName("synonymByTypes");
+		return synonymByTypesMapper;
+	}
+
+	private static Mapper zConstructProductSynonymByTypesReverseMapper(Set<String> synonymTypes)
+	{
+		Mapper synonymByTypesMapperInnerMapper = ProductFinder.zGetConstantJoin(0);
+		Mapper synonymByTypesMapper = new FilteredMapper(synonymByTypesMapperInnerMapper, null, ProductSynonymFinder.synonymType().in(synonymTypes));
+		synonymByTypesMapper.setName("synonymByTypes");
+		return synonymByTypesMapper;
+	}
+
+	private static Mapper zConstructProductSynonymByTypesMapper(Set<String> synonymTypes)
+	{
+		Mapper synonymByTypesMapperInnerMapper = ProductFinder.zGetConstantJoin(1);
+		Mapper synonymByTypesMapper = new FilteredMapper(synonymByTypesMapperInnerMapper, ProductSynonymFinder.synonymType().in(synonymTypes), null);
+		synonymByTypesMapper.setName("synonymByTypes_Reverse");
+		return synonymByTypesMapper;
+	}
+
+	private static Mapper cusipSynonymReverseMapper = null;
+	public static Mapper zGetProductCusipSynonymReverseMapper()
+	{
+		if (cusipSynonymReverseMapper == null)
+		{
+			cusipSynonymReverseMapper = zConstructProductCusipSynonymReverseMapper();
+		}
+
+		return cusipSynonymReverseMapper;
+	}
+
+	private static Mapper cusipSynonymMapper = null;
+	public static Mapper zGetProductCusipSynonymMapper()
+	{
+		if (cusipSynonymMapper == null)
+		{
+			cusipSynonymMapper = zConstructProductCusipSynonymMapper();
+		}
+
+		return cusipSynonymMapper;
+	}
+
+	private static Mapper cusipSynonymPureReverseMapper = null;
+	public static Mapper zGetProductCusipSynonymPureReverseMapper()
+	{
+		if (cusipSynonymPureReverseMapper == null)
+		{
+			cusipSynonymPureReverseMapper = zConstructProductCusipSynonymPureReverseMapper();
+		}
+
+		return cusipSynonymPureReverseMapper;
+	}
+
+	private static Mapper zConstructProductCusipSynonymPureReverseMapper()
+	{
+		Mapper cusipSynonymMapper = ProductFinder.zGetConstantJoin(0);
+		cusipSynonymMapper.setName("cusipSynonym");
+		return cusipSynonymMapper;
+	}
+
+	private static Mapper zConstructProductCusipSynonymReverseMapper()
+	{
+		Mapper cusipSynonymMapperInnerMapper = ProductFinder.zGetConstantJoin(0);
+		Mapper cusipSynonymMapper = new FilteredMapper(cusipSynonymMapperInnerMapper, null, ProductSynonymFinder.zGetConstantOperation(1));
+		cusipSynonymMapper.setName("cusipSynonym");
+		return cusipSynonymMapper;
+	}
+
+	private static Mapper zConstructProductCusipSynonymMapper()
+	{
+		Mapper cusipSynonymMapperInnerMapper = ProductFinder.zGetConstantJoin(1);
+		Mapper cusipSynonymMapper = new FilteredMapper(cusipSynonymMapperInnerMapper, ProductSynonymFinder.zGetConstantOperation(1), null);
+		cusipSynonymMapper.setName("cusipSynonym_Reverse");
+		return cusipSynonymMapper;
+	}
+
+	public static Mapper zGetProductPositionsReverseMapper(String acmap, Timestamp buzDate)
+	{
+		return zConstructProductPositionsReverseMapper(acmap, buzDate);
+	}
+
+	public static Mapper zGetProductPositionsMapper(String acmap, Timestamp buzDate)
+	{
+		return zConstructProductPositionsMapper(acmap, buzDate);
+	}
+
+	private static Mapper positionsPureReverseMapper = null;
+	public static Mapper zGetProductPositionsPureReverseMapper()
+	{
+		if (positionsPureReverseMapper == null)
+		{
+			positionsPureReverseMapper = zConstructProductPositionsPureReverseMapper();
+		}
+
+		return positionsPureReverseMapper;
+	}
+
+	private static Mapper zConstructProductPositionsPureReverseMapper()
+	{
+		Mapper positionsMapper = ProductFinder.zGetConstantJoin(2);
+		positionsMapper.setName("positions");
+		return positionsMapper;
+	}
+
+	private static Mapper zConstructProductPositionsReverseMapper(String acmap, Timestamp buzDate)
+	{
+		Mapper positionsMapperInnerMapper = ProductFinder.zGetConstantJoin(2);
+		Mapper positionsMapper = new FilteredMapper(positionsMapperInnerMapper, null, PositionQuantityFinder.acmapCode().eq(acmap).and(PositionQuantityFinder.businessDate().eq(buzDate)));
+		positionsMapper.setName("positions");
+		return positionsMapper;
+	}
+
+	private static Mapper zConstructProductPositionsMapper(String acmap, Timestamp buzDate)
+	{
+		Mapper positionsMapperInnerMapper = PositionQuantityFinder.zGetConstantJoin(10);
+		Mapper positionsMapper = new FilteredMapper(positionsMapperInnerMapper, PositionQuantityFinder.acmapCode().eq(acmap).and(PositionQuantityFinder.businessDate().eq(buzDate)), null);
+		positionsMapper.setName("positions_Reverse");
+		return positionsMapper;
+	}
+
+	/** maps to PRODUCT.PROD_ID **/
+	public static IntegerAttribute<Product> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to PRODUCT.CODE **/
+	public static StringAttribute<Product> productCode()
+	{
+		return finder.productCode();
+	}
+
+	/** maps to PRODUCT.PROD_DESC **/
+	public static StringAttribute<Product> productDescription()
+	{
+		return finder.productDescription();
+	}
+
+	/** maps to PRODUCT.MANUFACTURER_ID **/
+	public static IntegerAttribute<Product> manufacturerId()
+	{
+		return finder.manufacturerId();
+	}
+
+	/** maps to PRODUCT.DAILY_PRODUCTION_RATE **/
+	public static FloatAttribute<Product> dailyProductionRate()
+	{
+		return finder.dailyProductionRate();
+	}
+
+	public static ProductSynonymFinder.ProductSynonymCollectionFinderForRelatedClasses<Product, ProductSynonymList, Product> synonyms()
+	{
+		return finder.synonyms();
+	}
+
+	public static class ProductSynonymsFinderSubclass<ParentOwnerType> extends ProductSynonymFinder.ProductSynonymCollectionFinderForRelatedClasses<ParentOwnerType, ProductSynonymList, Product>
+	{
+		public ProductSynonymsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "synonyms";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductSynonymsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductSynonymList plainValueOf(Product _obj)
+		{
+			return _obj.getSynonyms();
+		}
+
+		protected ProductSynonymList plainListValueOf(Object _obj)
+		{
+			return ((ProductList)_obj).getSynonyms();
+		}
+	}
+
+	public static ProductSynonymFinder.ProductSynonymSingleFinderForRelatedClasses<Product, ProductSynonym, Product> cusOrFooSynonyms()
+	{
+		return finder.cusOrFooSynonyms();
+	}
+
+	public static class ProductCusOrFooSynonymsFinderSubclass<ParentOwnerType> extends ProductSynonymFinder.ProductSynonymSingleFinderForRelatedClasses<ParentOwnerType, ProductSynonym, Product>
+	{
+		public ProductCusOrFooSynonymsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "cusOrFooSynonyms";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductCusOrFooSynonymsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductSynonym plainValueOf(Product _obj)
+		{
+			return _obj.getCusOrFooSynonyms();
+		}
+
+		protected ProductSynonymList plainListValueOf(Object _obj)
+		{
+			return ((ProductList)_obj).getCusOrFooSynonyms();
+		}
+	}
+
+	public static ProductSynonymFinder.ProductSynonymSingleFinderForRelatedClasses<Product, ProductSynonym, Product> synonymByType(String synonymType)
+	{
+		return finder.synonymByType(synonymType);
+	}
+
+	public static class ProductSynonymByTypeFinderSubclass<ParentOwnerType> extends ProductSynonymFinder.ProductSynonymSingleFinderForRelatedClasses<ParentOwnerType, ProductSynonym, Product>
+	{
+		private String synonymType;
+		public ProductSynonymByTypeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String synonymType)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.synonymType = synonymType;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "synonymByType";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductSynonymByTypeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.synonymType
+			);
+		}
+
+		protected ProductSynonym plainValueOf(Product _obj)
+		{
+			return _obj.getSynonymByType(synonymType);
+		}
+
+		protected ProductSynonymList plainListValueOf(Object _obj)
+		{
+			return ((ProductList)_obj).getSynonymByTypes(synonymType);
+		}
+	}
+
+	public static ProductSynonymFinder.ProductSynonymCollectionFinderForRelatedClasses<Product, ProductSynonymList, Product> synonymByTypes(Set<String> synonymTypes)
+	{
+		return finder.synonymByTypes(synonymTypes);
+	}
+
+	public static class ProductSynonymByTypesFinderSubclass<ParentOwnerType> extends ProductSynonymFinder.ProductSynonymCollectionFinderForRelatedClasses<ParentOwnerType, ProductSynonymList, Product>
+	{
+		private Set<String> synonymTypes;
+		public ProductSynonymByTypesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Set<String> synonymTypes)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.synonymTypes = synonymTypes;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "synonymByTypes";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductSynonymByTypesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.synonymTypes
+			);
+		}
+
+		protected ProductSynonymList plainValueOf(Product _obj)
+		{
+			return _obj.getSynonymByTypes(synonymTypes);
+		}
+
+		protected ProductSynonymList plainListValueOf(Object _obj)
+		{
+			return ((ProductList)_obj).getSynonymByTypes(synonymTypes);
+		}
+	}
+
+	public static ProductSynonymFinder.ProductSynonymSingleFinderForRelatedClasses<Product, ProductSynonym, Product> cusipSynonym()
+	{
+		return finder.cusipSynonym();
+	}
+
+	public static class ProductCusipSynonymFinderSubclass<ParentOwnerType> extends ProductSynonymFinder.ProductSynonymSingleFinderForRelatedClasses<ParentOwnerType, ProductSynonym, Product>
+	{
+		public ProductCusipSynonymFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "cusipSynonym";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProductSynonymFinder.productId(),
+				ProductSynonymFinder.synonymType()).withExtractors(
+				ProductFinder.productId(),
+				((OperationWithParameterExtractor)ProductSynonymFinder.zGetConstantOperation(1)).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductCusipSynonymFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductSynonym plainValueOf(Product _obj)
+		{
+			return _obj.getCusipSynonym();
+		}
+
+		protected ProductSynonymList plainListValueOf(Object _obj)
+		{
+			return ((ProductList)_obj).getCusipSynonyms();
+		}
+	}
+
+	public static PositionQuantityFinder.PositionQuantityCollectionFinderForRelatedClasses<Product, PositionQuantityList, Product> positions(String acmap, Timestamp buzDate)
+	{
+		return finder.positions(acmap, buzDate);
+	}
+
+	public static class ProductPositionsFinderSubclass<ParentOwnerType> extends PositionQuantityFinder.PositionQuantityCollectionFinderForRelatedClasses<ParentOwnerType, PositionQuantityList, Product>
+	{
+		private String acmap;
+		private Timestamp buzDate;
+		public ProductPositionsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String acmap, Timestamp buzDate)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.acmap = acmap;
+			this.buzDate = buzDate;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "positions";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductPositionsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.acmap
+			, this.buzDate
+			);
+		}
+
+		protected PositionQuantityList plainValueOf(Product _obj)
+		{
+			return _obj.getPositions(acmap, buzDate);
+		}
+
+		protected PositionQuantityList plainListValueOf(Object _obj)
+		{
+			return ((ProductList)_obj).getPositions(acmap, buzDate);
+		}
+	}
+
+	public static Operation eq(Product other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(productId());
+	}
+
+	public static ProductSingleFinder<Product, Object, Product> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			productId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			productId()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Product");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,225 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProductListAbstract extends DelegatingList<Product> implements MithraTransactionalList<Product>
+{
+	public ProductListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProductListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProductListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProductListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Product[] elements()
+	{
+		Product[] result = new Product[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProductList intersection(ProductList another)
+	{
+		return (ProductList)super.intersection(another);
+	}
+
+	public Product getProductAt(int index)
+	{
+		return (Product)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId</pre>
+	* @return synonyms
+	*/
+	public ProductSynonymList getSynonyms()
+	{
+		return (ProductSynonymList) this.zGetDelegated().resolveRelationship(this, ProductFinder.synonyms());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId and ProductSynonym.synonymType in ("CUS", "FOO")</pre>
+	* @return The cus or foo synonyms
+	*/
+	public ProductSynonymList getCusOrFooSynonyms()
+	{
+		return (ProductSynonymList) this.zGetDelegated().resolveRelationship(this, ProductFinder.cusOrFooSynonyms());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId and ProductSynonym.synonymType = {synonymType}</pre>
+	* @return The synonym by type
+	*/
+	public ProductSynonymList getSynonymByTypes(String synonymType)
+	{
+		return (ProductSynonymList) this.zGetDelegated().resolveRelationship(this, ProductFinder.synonymByType(synonymType));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId and ProductSynonym.synonymType in {synonymTypes}</pre>
+	* @return synonym by types
+	*/
+	public ProductSynonymList getSynonymByTypes(Set<String> synonymTypes)
+	{
+		return (ProductSynonymList) this.zGetDelegated().resolveRelationship(this, ProductFinder.synonymByTypes(synonymTypes));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId and ProductSynonym.synonymType = "CUS"</pre>
+	* @return The cusip synonym
+	*/
+	public ProductSynonymList getCusipSynonyms()
+	{
+		return (ProductSynonymList) this.zGetDelegated().resolveRelationship(this, ProductFinder.cusipSynonym());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = PositionQuantity.productId and PositionQuantity.acmapCode = {acmap} and PositionQuantity.businessDate = {buzDate}</pre>
+	* @return positions
+	*/
+	public PositionQuantityList getPositions(String acmap, Timestamp buzDate)
+	{
+		return (PositionQuantityList) this.zGetDelegated().resolveRelationship(this, ProductFinder.positions(acmap, buzDate));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProductFinder.getMithraObjectPortal();
+	}
+
+	public ProductList getNonPersistentCopy()
+	{
+		ProductList result = new ProductList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProductList asAdhoc()
+	{
+		return (ProductList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Product> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ProductList merge(MithraTransactionalList<Product> incoming, TopLevelMergeOptions<Product> mergeOptions)
+	{
+		return (ProductList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProductList getDetachedCopy()
+	{
+		ProductList result = new ProductList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(ProductFinder.productId(), newValue);
+	}
+
+	public void setProductCode(String newValue)
+	{
+		zSetString(ProductFinder.productCode(), newValue);
+	}
+
+	public void setProductDescription(String newValue)
+	{
+		zSetString(ProductFinder.productDescription(), newValue);
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(ProductFinder.manufacturerId(), newValue);
+	}
+
+	public void setDailyProductionRate(float newValue)
+	{
+		zSetFloat(ProductFinder.dailyProductionRate(), newValue);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zSetAttributeNull(ProductFinder.manufacturerId());
+	}
+
+	public void setDailyProductionRateNull()
+	{
+		zSetAttributeNull(ProductFinder.dailyProductionRate());
+	}
+}
@@ -0,0 +1,130 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProductProfileTypeListAbstract extends DelegatingList<ProductProfileType> implements MithraList<ProductProfileType>
+{
+	public ProductProfileTypeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProductProfileTypeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProductProfileTypeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProductProfileTypeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ProductProfileType[] elements()
+	{
+		ProductProfileType[] result = new ProductProfileType[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProductProfileTypeList intersection(ProductProfileTypeList another)
+	{
+		return (ProductProfileTypeList)super.intersection(another);
+	}
+
+	public ProductProfileType getProductProfileTypeAt(int index)
+	{
+		return (ProductProfileType)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProductCategoryMap.profileTypeId = this.profileTypeId
+	and ProductCategoryMap.categoryId = ProductCategory.categoryId</pre>
+	* @return product categories
+	*/
+	public ProductCategoryList getProductCategories()
+	{
+		return (ProductCategoryList) this.zGetDelegated().resolveRelationship(this, ProductProfileTypeFinder.productCategories());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.profileTypeId = ProductWithSourceAttribute.profileTypeId</pre>
+	* @see ProductWithSourceAttribute#getProfileType() reverse relationship ProductWithSourceAttribute.getProfileType()
+	* @return products
+	*/
+	public ProductWithSourceAttributeList getProducts()
+	{
+		return (ProductWithSourceAttributeList) this.zGetDelegated().resolveRelationship(this, ProductProfileTypeFinder.products());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProductProfileTypeFinder.getMithraObjectPortal();
+	}
+
+	public ProductProfileTypeList getNonPersistentCopy()
+	{
+		ProductProfileTypeList result = new ProductProfileTypeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProductProfileTypeList asAdhoc()
+	{
+		return (ProductProfileTypeList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ProductProfileType> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
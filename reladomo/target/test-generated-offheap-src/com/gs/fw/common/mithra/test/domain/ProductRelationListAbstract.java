@@ -0,0 +1,140 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProductRelationListAbstract extends DelegatingList<ProductRelation> implements MithraTransactionalList<ProductRelation>
+{
+	public ProductRelationListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProductRelationListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProductRelationListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProductRelationListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProductRelation[] elements()
+	{
+		ProductRelation[] result = new ProductRelation[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProductRelationList intersection(ProductRelationList another)
+	{
+		return (ProductRelationList)super.intersection(another);
+	}
+
+	public ProductRelation getProductRelationAt(int index)
+	{
+		return (ProductRelation)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProductRelationFinder.getMithraObjectPortal();
+	}
+
+	public ProductRelationList getNonPersistentCopy()
+	{
+		ProductRelationList result = new ProductRelationList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProductRelationList asAdhoc()
+	{
+		return (ProductRelationList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ProductRelation> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ProductRelationList merge(MithraTransactionalList<ProductRelation> incoming, TopLevelMergeOptions<ProductRelation> mergeOptions)
+	{
+		return (ProductRelationList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProductRelationList getDetachedCopy()
+	{
+		ProductRelationList result = new ProductRelationList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setProductChildId(int newValue)
+	{
+		zSetInteger(ProductRelationFinder.productChildId(), newValue);
+	}
+
+	public void setProductParentId(int newValue)
+	{
+		zSetInteger(ProductRelationFinder.productParentId(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ProductRelationFinder.acmapCode(), newValue);
+	}
+}
@@ -0,0 +1,205 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProductSpecificationListAbstract extends DelegatingList<ProductSpecification> implements MithraTransactionalList<ProductSpecification>
+{
+	public ProductSpecificationListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProductSpecificationListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProductSpecificationListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProductSpecificationListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProductSpecification[] elements()
+	{
+		ProductSpecification[] result = new ProductSpecification[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProductSpecificationList intersection(ProductSpecificationList another)
+	{
+		return (ProductSpecificationList)super.intersection(another);
+	}
+
+	public ProductSpecification getProductSpecificationAt(int index)
+	{
+		return (ProductSpecification)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProductSpecificationFinder.getMithraObjectPortal();
+	}
+
+	public ProductSpecificationList getNonPersistentCopy()
+	{
+		ProductSpecificationList result = new ProductSpecificationList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProductSpecificationList asAdhoc()
+	{
+		return (ProductSpecificationList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ProductSpecification> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ProductSpecificationList merge(MithraTransactionalList<ProductSpecification> incoming, TopLevelMergeOptions<ProductSpecification> mergeOptions)
+	{
+		return (ProductSpecificationList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProductSpecificationList getDetachedCopy()
+	{
+		ProductSpecificationList result = new ProductSpecificationList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(ProductSpecificationFinder.productId(), newValue);
+	}
+
+	public void setProductCode(String newValue)
+	{
+		zSetString(ProductSpecificationFinder.productCode(), newValue);
+	}
+
+	public void setProductName(String newValue)
+	{
+		zSetString(ProductSpecificationFinder.productName(), newValue);
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(ProductSpecificationFinder.manufacturerId(), newValue);
+	}
+
+	public void setManufacturerName(String newValue)
+	{
+		zSetString(ProductSpecificationFinder.manufacturerName(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(ProductSpecificationFinder.originalPrice(), newValue);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(ProductSpecificationFinder.discountPrice(), newValue);
+	}
+
+	public void setOtherPrice(int newValue)
+	{
+		zSetInteger(ProductSpecificationFinder.otherPrice(), newValue);
+	}
+
+	public void setMinQuantity(int newValue)
+	{
+		zSetInteger(ProductSpecificationFinder.minQuantity(), newValue);
+	}
+
+	public void setDeltaPrice(double newValue)
+	{
+		zSetDouble(ProductSpecificationFinder.deltaPrice(), newValue);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zSetAttributeNull(ProductSpecificationFinder.manufacturerId());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(ProductSpecificationFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(ProductSpecificationFinder.discountPrice());
+	}
+
+	public void setOtherPriceNull()
+	{
+		zSetAttributeNull(ProductSpecificationFinder.otherPrice());
+	}
+
+	public void setMinQuantityNull()
+	{
+		zSetAttributeNull(ProductSpecificationFinder.minQuantity());
+	}
+
+	public void setDeltaPriceNull()
+	{
+		zSetAttributeNull(ProductSpecificationFinder.deltaPrice());
+	}
+}
@@ -0,0 +1,303 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProductSynonymData
+implements MithraDataObject
+{
+	private int productId;
+	private String synonymType;
+	private String synonymValue;
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSynonymTypeNull()
+	{
+		return this.getSynonymType() == null;
+	}
+
+	public boolean isSynonymValueNull()
+	{
+		return this.getSynonymValue() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.productId);
+		out.writeObject(this.synonymType);
+		out.writeObject(this.synonymValue);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+	}
+
+	public void setProductIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getSynonymType()
+	{
+		return this.synonymType;
+	}
+
+	public int zGetSynonymTypeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(synonymType);
+	}
+
+	public void setSynonymType(String value)
+	{
+		this.synonymType = StringPool.getInstance().getOrAddToCache(value, ProductSynonymFinder.isFullCache());
+	}
+
+	public void setSynonymTypeNull()
+	{
+		this.setSynonymType(null);
+	}
+
+	public String getSynonymValue()
+	{
+		return this.synonymValue;
+	}
+
+	public int zGetSynonymValueAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(synonymValue);
+	}
+
+	public void setSynonymValue(String value)
+	{
+		this.synonymValue = StringPool.getInstance().getOrAddToCache(value, ProductSynonymFinder.isFullCache());
+	}
+
+	public void setSynonymValueNull()
+	{
+		this.setSynonymValue(null);
+	}
+
+	protected void copyInto(ProductSynonymData copy, boolean withRelationships)
+	{
+		copy.productId = this.productId;
+		copy.synonymType = this.synonymType;
+		copy.synonymValue = this.synonymValue;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.productId = in.readInt();
+		this.synonymType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductSynonymFinder.isFullCache());
+		this.synonymValue = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductSynonymFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ProductSynonymData otherData = (ProductSynonymData) other;
+		if (getProductId() != otherData.getProductId())
+		{
+			return false;
+		}
+
+		if (!isSynonymTypeNull() ? !getSynonymType().equals(otherData.getSynonymType()) : !otherData.isSynonymTypeNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.productId);
+		out.writeObject(this.synonymType);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.productId = in.readInt();
+		this.synonymType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductSynonymFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ProductSynonymData productSynonymData = (ProductSynonymData) newData;
+		this.setSynonymValue(productSynonymData.getSynonymValue());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ProductSynonymData other = (ProductSynonymData) newData;
+		if (!isSynonymValueNull() ? !getSynonymValue().equals(other.getSynonymValue()) : !other.isSynonymValueNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ProductSynonymData copy = new ProductSynonymData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ProductSynonymData copy = new ProductSynonymData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "productId: "+(""+getProductId())+ " / ";
+		result += "synonymType: "+"'"+getSynonymType()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ProductSynonymData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ProductSynonymFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ProductSynonymFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ProductSynonymData";
+	}
+}
@@ -0,0 +1,119 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProfileListAbstract extends DelegatingList<Profile> implements MithraList<Profile>
+{
+	public ProfileListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProfileListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProfileListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProfileListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Profile[] elements()
+	{
+		Profile[] result = new Profile[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProfileList intersection(ProfileList another)
+	{
+		return (ProfileList)super.intersection(another);
+	}
+
+	public Profile getProfileAt(int index)
+	{
+		return (Profile)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = User.profileId</pre>
+	* @see User#getProfile() reverse relationship User.getProfile()
+	* @return users
+	*/
+	public UserList getUsers()
+	{
+		return (UserList) this.zGetDelegated().resolveRelationship(this, ProfileFinder.users());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProfileFinder.getMithraObjectPortal();
+	}
+
+	public ProfileList getNonPersistentCopy()
+	{
+		ProfileList result = new ProfileList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProfileList asAdhoc()
+	{
+		return (ProfileList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Profile> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
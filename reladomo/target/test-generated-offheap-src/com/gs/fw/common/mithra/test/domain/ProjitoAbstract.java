@@ -0,0 +1,1227 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ProjitoAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ProjitoFinder.processingDate()
+	, ProjitoFinder.zGetDoubleAttributes(),ProjitoFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(Projito.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public boolean isMeasuresOfSuccessModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForRead(this);
+		ProjitoMeasureOfSuccessList measuresOfSuccess =
+		(ProjitoMeasureOfSuccessList) _data.getMeasuresOfSuccess();
+		if( measuresOfSuccess != null)
+		{
+			return measuresOfSuccess.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public boolean isMembershipsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForRead(this);
+		ProjitoMembershipList memberships =
+		(ProjitoMembershipList) _data.getMemberships();
+		if( memberships != null)
+		{
+			return memberships.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public boolean isVersionModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForRead(this);
+		if (_data.getVersion() instanceof NulledRelation)
+		{
+			ProjitoVersion _existing = this.getOriginalPersistentObject().getVersion();
+			return _existing != null;
+		}
+
+		ProjitoVersion version =
+		(ProjitoVersion) _data.getVersion();
+		if( version != null)
+		{
+			return version.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public ProjitoAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ProjitoFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ProjitoData zSynchronizedGetData()
+	{
+		return (ProjitoData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ProjitoFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	public void insertForRecovery() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertForRecovery(this);
+	}
+
+	public void insertWithIncrement() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrement(this);
+	}
+
+	public void insertWithIncrementUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrementUntil(this, exclusiveUntil);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+		ProjitoMeasureOfSuccessList measuresOfSuccess =
+		(ProjitoMeasureOfSuccessList ) _data.getMeasuresOfSuccess();
+		ProjitoMembershipList memberships =
+		(ProjitoMembershipList ) _data.getMemberships();
+		ProjitoVersion version =
+		(ProjitoVersion ) _data.getVersion();
+		_behavior.insert(this);
+		if (measuresOfSuccess != null)
+		{
+			measuresOfSuccess.cascadeInsertAll();
+		}
+
+		if (memberships != null)
+		{
+			memberships.cascadeInsertAll();
+		}
+
+		if (version != null)
+		{
+			version.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		ProjitoFinder.ProjitoRelatedFinder parentFinder = (ProjitoFinder.ProjitoRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoData _newData = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+		{
+			ProjitoMeasureOfSuccessList measuresOfSuccess =
+			(ProjitoMeasureOfSuccessList) _newData.getMeasuresOfSuccess();
+			RelatedFinder dependentFinder = parentFinder.measuresOfSuccess();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, measuresOfSuccess != null, navigationStats);
+			if (measuresOfSuccess != null)
+			{
+				measuresOfSuccess.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		{
+			ProjitoMembershipList memberships =
+			(ProjitoMembershipList) _newData.getMemberships();
+			RelatedFinder dependentFinder = parentFinder.memberships();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, memberships != null, navigationStats);
+			if (memberships != null)
+			{
+				memberships.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getVersion() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.version();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			ProjitoVersion version =
+			(ProjitoVersion) _newData.getVersion();
+			RelatedFinder dependentFinder = parentFinder.version();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, version != null, navigationStats);
+			if (version != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(version, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public Projito zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+		ProjitoMeasureOfSuccessList measuresOfSuccess =
+		(ProjitoMeasureOfSuccessList ) _data.getMeasuresOfSuccess();
+		ProjitoMembershipList memberships =
+		(ProjitoMembershipList ) _data.getMemberships();
+		ProjitoVersion version =
+		(ProjitoVersion ) _data.getVersion();
+		Projito original = (Projito) _behavior.copyThenInsert(this);
+		if (measuresOfSuccess != null)
+		{
+			measuresOfSuccess.zCascadeCopyThenInsertAll();
+		}
+
+		if (memberships != null)
+		{
+			memberships.zCascadeCopyThenInsertAll();
+		}
+
+		if (version != null)
+		{
+			version.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ProjitoFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public Projito getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoAbstract result = (ProjitoAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (Projito ) result;
+	}
+
+	public Projito zFindOriginal()
+	{
+		ProjitoData data = (ProjitoData) this.currentData;
+		Operation op;
+		op = ProjitoFinder.id().eq(data.getId());
+		op = op.and(ProjitoFinder.processingDate().eq(this.getProcessingDate()));
+		return ProjitoFinder.findOne(op);
+	}
+
+	public Projito getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoAbstract result = (ProjitoAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (Projito ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isMeasuresOfSuccessModifiedSinceDetachment()) return true;
+		if(isMembershipsModifiedSinceDetachment()) return true;
+		if(isVersionModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public Projito copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (Projito) behavior.updateOriginalOrInsert(this);
+	}
+
+	public Projito copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Projito) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ProjitoData data = (ProjitoData) this.currentData;
+			Operation op = ProjitoFinder.processingDate().eq(this.processingDate);
+			op = op.and(ProjitoFinder.id().eq(data.getId()));
+			return ProjitoFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isBvpNull()
+	{
+		return this.zSynchronizedGetData().isBvpNull();
+	}
+
+	public boolean isDueDateNull()
+	{
+		return this.zSynchronizedGetData().isDueDateNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isNameNull()
+	{
+		return this.zSynchronizedGetData().isNameNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStatusNull()
+	{
+		return this.zSynchronizedGetData().isStatusNull();
+	}
+
+	public String getBvp()
+	{
+		return this.zSynchronizedGetData().getBvp();
+	}
+
+	public void setBvp(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 2000)
+		{
+			throw new MithraBusinessException("Attribute 'bvp' cannot exceed maximum length of 2000: " + newValue);
+		}
+
+		zSetString(ProjitoFinder.bvp(), newValue, false );
+	}
+
+	public Timestamp getDueDate()
+	{
+		return this.zSynchronizedGetData().getDueDate();
+	}
+
+	public void setDueDate(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoFinder.dueDate(), newValue, false );
+	}
+
+	public long getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(long newValue)
+	{
+		MithraDataObject d = zSetLong(ProjitoFinder.id(), newValue, true ,false);
+		if (d == null) return;
+		ProjitoData data = (ProjitoData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			ProjitoMeasureOfSuccessList measuresOfSuccess =
+			(ProjitoMeasureOfSuccessList) data.getMeasuresOfSuccess();
+			if (measuresOfSuccess != null)
+			{
+				measuresOfSuccess.setProjitoId(newValue);
+			}
+
+			ProjitoMembershipList memberships =
+			(ProjitoMembershipList) data.getMemberships();
+			if (memberships != null)
+			{
+				memberships.setProjitoId(newValue);
+			}
+
+			ProjitoVersion version =
+			(ProjitoVersion) data.getVersion();
+			if (version != null)
+			{
+				version.setVersionedRootId(newValue);
+			}
+		}
+	}
+
+	public String getName()
+	{
+		return this.zSynchronizedGetData().getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoFinder.name(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getStatus()
+	{
+		return this.zSynchronizedGetData().getStatus();
+	}
+
+	public void setStatus(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			throw new MithraBusinessException("Attribute 'status' cannot exceed maximum length of 50: " + newValue);
+		}
+
+		zSetString(ProjitoFinder.status(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProjitoData _newData = (ProjitoData) _data;
+		{
+			ProjitoMeasureOfSuccessList measuresOfSuccess =
+			(ProjitoMeasureOfSuccessList) _newData.getMeasuresOfSuccess();
+			if (measuresOfSuccess != null)
+			{
+				measuresOfSuccess.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+
+		{
+			ProjitoMembershipList memberships =
+			(ProjitoMembershipList) _newData.getMemberships();
+			if (memberships != null)
+			{
+				memberships.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+
+		if (_newData.getVersion() instanceof NulledRelation)
+		{
+			ProjitoVersion version =
+			this.getVersion();
+			if (version != null)
+			{
+				version.cascadeTerminate();
+			}
+		}
+		else
+		{
+			ProjitoVersion version =
+			(ProjitoVersion) _newData.getVersion();
+			if (version != null)
+			{
+				ProjitoVersion _existing =
+				this.getVersion();
+				if (_existing == null)
+				{
+					version.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(version.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(version.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ProjitoData _newData = (ProjitoData) behavior.getCurrentDataForRead(this);
+		if (_newData.getMeasuresOfSuccess() != null && !(_newData.getMeasuresOfSuccess() instanceof NulledRelation))
+		{
+			((ProjitoMeasureOfSuccessList)_newData.getMeasuresOfSuccess()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getMemberships() != null && !(_newData.getMemberships() instanceof NulledRelation))
+		{
+			((ProjitoMembershipList)_newData.getMemberships()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getVersion() != null && !(_newData.getVersion() instanceof NulledRelation))
+		{
+			((ProjitoVersion)_newData.getVersion()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ProjitoData _newData = (ProjitoData) behavior.getCurrentDataForRead(this);
+		if (_newData.getMeasuresOfSuccess() != null && !(_newData.getMeasuresOfSuccess() instanceof NulledRelation))
+		{
+			((ProjitoMeasureOfSuccessList)_newData.getMeasuresOfSuccess()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getMemberships() != null && !(_newData.getMemberships() instanceof NulledRelation))
+		{
+			((ProjitoMembershipList)_newData.getMemberships()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getVersion() != null && !(_newData.getVersion() instanceof NulledRelation))
+		{
+			((ProjitoVersion)_newData.getVersion()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = ProjitoMeasureOfSuccess.projitoId</pre>
+	* Order By: <code>id DESC, name asc, description</code>.
+	* @see ProjitoMeasureOfSuccess#getProjito() reverse relationship ProjitoMeasureOfSuccess.getProjito()
+	* @return measures of success
+	*/
+	public ProjitoMeasureOfSuccessList getMeasuresOfSuccess()
+	{
+		ProjitoMeasureOfSuccessList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoFinder.measuresOfSuccess().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (ProjitoMeasureOfSuccessList) _data.getMeasuresOfSuccess();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoFinder.measuresOfSuccess().zGetRelationshipMultiExtractor(), this);
+					_result = new ProjitoMeasureOfSuccessList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new MeasuresOfSuccessAddHandlerInMemory());
+				}
+
+				_result.setOrderBy(ProjitoMeasureOfSuccessFinder.id().descendingOrderBy().and(ProjitoMeasureOfSuccessFinder.name().ascendingOrderBy()).and(ProjitoMeasureOfSuccessFinder.description().ascendingOrderBy()));
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+				_data.setMeasuresOfSuccess(_result);
+				if (_result != null) _result.zSetParentContainerprojito(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProjitoMeasureOfSuccessList) _data.getMeasuresOfSuccess();
+			if (_result == null)
+			{
+				_result = new ProjitoMeasureOfSuccessList();
+				_result.zSetAddHandler(new MeasuresOfSuccessAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+				_data.setMeasuresOfSuccess(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ProjitoMeasureOfSuccessList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new MeasuresOfSuccessAddHandlerPersisted());
+			_result.setOrderBy(ProjitoMeasureOfSuccessFinder.id().descendingOrderBy().and(ProjitoMeasureOfSuccessFinder.name().ascendingOrderBy()).and(ProjitoMeasureOfSuccessFinder.description().ascendingOrderBy()));
+		}
+
+		return _result;
+	}
+
+	public void setMeasuresOfSuccess(ProjitoMeasureOfSuccessList measuresOfSuccess)
+	{
+		ProjitoMeasureOfSuccessList _measuresOfSuccess = (ProjitoMeasureOfSuccessList) measuresOfSuccess;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _measuresOfSuccess != null)
+			{
+				_measuresOfSuccess.zMakeDetached(new RelationshipMultiEqualityOperation(ProjitoFinder.measuresOfSuccess().zGetRelationshipMultiExtractor(), this),
+					_data.getMeasuresOfSuccess());
+			}
+
+			_data.setMeasuresOfSuccess(_measuresOfSuccess);
+			if (_measuresOfSuccess != null)
+			{
+				_measuresOfSuccess.setProjitoId(_data.getId());
+				_measuresOfSuccess.zSetParentContainerprojito(this);
+				_measuresOfSuccess.zSetAddHandler(new MeasuresOfSuccessAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_measuresOfSuccess.zSetAddHandler(new MeasuresOfSuccessAddHandlerPersisted());
+			ProjitoMeasureOfSuccessList measuresOfSuccessToDelete = new ProjitoMeasureOfSuccessList();
+			measuresOfSuccessToDelete.addAll(this.getMeasuresOfSuccess());
+			for(int i=0;i < _measuresOfSuccess.size(); i++)
+			{
+				ProjitoMeasureOfSuccess item = _measuresOfSuccess.getProjitoMeasureOfSuccessAt(i);
+				if (!measuresOfSuccessToDelete.remove(item))
+				{
+					item.setProjitoId(_data.getId());
+					item.cascadeInsert();
+				}
+			}
+
+			measuresOfSuccessToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = ProjitoMembership.projitoId</pre>
+	* Order By: <code>kerberos DESC</code>.
+	* @see ProjitoMembership#getProjito() reverse relationship ProjitoMembership.getProjito()
+	* @return memberships
+	*/
+	public ProjitoMembershipList getMemberships()
+	{
+		ProjitoMembershipList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoFinder.memberships().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (ProjitoMembershipList) _data.getMemberships();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoFinder.memberships().zGetRelationshipMultiExtractor(), this);
+					_result = new ProjitoMembershipList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new MembershipsAddHandlerInMemory());
+				}
+
+				_result.setOrderBy(ProjitoMembershipFinder.kerberos().descendingOrderBy());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+				_data.setMemberships(_result);
+				if (_result != null) _result.zSetParentContainerprojito(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProjitoMembershipList) _data.getMemberships();
+			if (_result == null)
+			{
+				_result = new ProjitoMembershipList();
+				_result.zSetAddHandler(new MembershipsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+				_data.setMemberships(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ProjitoMembershipList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new MembershipsAddHandlerPersisted());
+			_result.setOrderBy(ProjitoMembershipFinder.kerberos().descendingOrderBy());
+		}
+
+		return _result;
+	}
+
+	public void setMemberships(ProjitoMembershipList memberships)
+	{
+		ProjitoMembershipList _memberships = (ProjitoMembershipList) memberships;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _memberships != null)
+			{
+				_memberships.zMakeDetached(new RelationshipMultiEqualityOperation(ProjitoFinder.memberships().zGetRelationshipMultiExtractor(), this),
+					_data.getMemberships());
+			}
+
+			_data.setMemberships(_memberships);
+			if (_memberships != null)
+			{
+				_memberships.setProjitoId(_data.getId());
+				_memberships.zSetParentContainerprojito(this);
+				_memberships.zSetAddHandler(new MembershipsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_memberships.zSetAddHandler(new MembershipsAddHandlerPersisted());
+			ProjitoMembershipList membershipsToDelete = new ProjitoMembershipList();
+			membershipsToDelete.addAll(this.getMemberships());
+			for(int i=0;i < _memberships.size(); i++)
+			{
+				ProjitoMembership item = _memberships.getProjitoMembershipAt(i);
+				if (!membershipsToDelete.remove(item))
+				{
+					item.setProjitoId(_data.getId());
+					item.cascadeInsert();
+				}
+			}
+
+			membershipsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProjitoVersion.versionedRootId = this.id</pre>
+	* @see ProjitoVersion#getVersionedRoot() reverse relationship ProjitoVersion.getVersionedRoot()
+	* @return The version
+	*/
+	public ProjitoVersion getVersion()
+	{
+		ProjitoVersion _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoFinder.version().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getVersion() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ProjitoVersion) _data.getVersion();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoFinder.version().zGetRelationshipMultiExtractor(), this);
+					_result = ProjitoVersionFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+				_data.setVersion(_result);
+				if (_result != null) _result.zSetParentContainerversionedRoot(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProjitoVersion) _data.getVersion();
+		}
+
+		if (_op != null)
+		{
+			_result = ProjitoVersionFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVersion(ProjitoVersion version)
+	{
+		ProjitoVersion _version = (ProjitoVersion) version;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoData _data = (ProjitoData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getVersion();
+			_data.setVersion(_version);
+			if (_version != null)
+			{
+				_version.setVersionedRootId(_data.getId());
+				_version.zSetParentContainerversionedRoot(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setVersion(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			ProjitoVersion _existing = this.getVersion();
+			if (_version != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_version != null)
+				{
+					_version.setVersionedRootId(_data.getId());
+					_version.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return ProjitoFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProjitoData.ProjitoDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ProjitoData data = (ProjitoData) ProjitoFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("Projito has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromProjitoData( ProjitoData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromProjitoData( ProjitoData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ProjitoFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProjitoFinder.getMithraObjectPortal();
+	}
+
+	public Projito getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ProjitoAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ProjitoAbstract from = (ProjitoAbstract) f;
+		ProjitoData newData = from.zSynchronizedGetData();
+		this.setBvp(newData.getBvp());
+		this.setDueDate(newData.getDueDate());
+		this.setName(newData.getName());
+		this.setStatus(newData.getStatus());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ProjitoData newData = (ProjitoData) d;
+		ProjitoData data = (ProjitoData) nd;
+		if (ProjitoFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ProjitoFinder.bvp(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, ProjitoFinder.dueDate(), false);
+		changed |= zUpdateLong(behavior, data, newData, ProjitoFinder.id(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoFinder.name(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoFinder.status(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getMeasuresOfSuccess().cascadeTerminateAll();
+		this.getMemberships().cascadeTerminateAll();
+		{
+			ProjitoVersion related = this.getVersion();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ProjitoData data = ((ProjitoData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ProjitoData data = ((ProjitoData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ProjitoData data = ((ProjitoData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public long generateAndSetId()
+	{
+		long nextValue =(long) this.generateId();
+		this.setId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsIdSet()
+	{
+		ProjitoData data = this.zSynchronizedGetData();
+		return data.zGetIsIdSet();
+	}
+
+	protected long generateId()
+	{
+		Object sourceAttribute = null;
+		ProjitoFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("projito", "com.gs.fw.common.mithra.test.domain.ProjitoSimulatedSequenceFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		ProjitoData data = (ProjitoData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsIdSet())
+		{
+			long newValue = this.generateId();
+			data.setId(newValue);
+			ProjitoMeasureOfSuccessList measuresOfSuccess =
+			(ProjitoMeasureOfSuccessList ) data.getMeasuresOfSuccess();
+			if (measuresOfSuccess != null)
+			{
+				measuresOfSuccess.setProjitoId(newValue);
+			}
+
+			ProjitoMembershipList memberships =
+			(ProjitoMembershipList ) data.getMemberships();
+			if (memberships != null)
+			{
+				memberships.setProjitoId(newValue);
+			}
+
+			ProjitoVersion version =
+			(ProjitoVersion ) data.getVersion();
+			if (version != null)
+			{
+				version.setVersionedRootId(newValue);
+			}
+		}
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity()), ProjitoFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ProjitoData localData = (ProjitoData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class MeasuresOfSuccessAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoMeasureOfSuccess item = (ProjitoMeasureOfSuccess) relatedObject;
+			item.setProjitoId(getId());
+			item.zSetParentContainerprojito(ProjitoAbstract.this);
+		}
+	}
+
+	protected class MeasuresOfSuccessAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoMeasureOfSuccess item = (ProjitoMeasureOfSuccess) relatedObject;
+			item.setProjitoId(getId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class MembershipsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoMembership item = (ProjitoMembership) relatedObject;
+			item.setProjitoId(getId());
+			item.zSetParentContainerprojito(ProjitoAbstract.this);
+		}
+	}
+
+	protected class MembershipsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoMembership item = (ProjitoMembership) relatedObject;
+			item.setProjitoId(getId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class VersionAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoVersion item = (ProjitoVersion) relatedObject;
+			item.setVersionedRootId(getId());
+			item.zSetParentContainerversionedRoot(ProjitoAbstract.this);
+		}
+	}
+
+	protected class VersionAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoVersion item = (ProjitoVersion) relatedObject;
+			item.setVersionedRootId(getId());
+			item.cascadeInsert();
+		}
+	}
+}
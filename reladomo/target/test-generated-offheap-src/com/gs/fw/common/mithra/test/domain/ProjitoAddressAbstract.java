@@ -0,0 +1,730 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ProjitoAddressAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ProjitoAddressFinder.processingDate()
+	, ProjitoAddressFinder.zGetDoubleAttributes(),ProjitoAddressFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ProjitoAddress.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy foremployee = new EmployeeRhs();
+	private static final class EmployeeRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = ProjitoEmployeeFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ProjitoAddress _castedSrcObject = (ProjitoAddress) _srcObject;
+			ProjitoAddressData _castedSrcData = (ProjitoAddressData) _srcData;
+			ProjitoEmployeeData _castedTargetData = (ProjitoEmployeeData) _targetData;
+			if (_castedSrcData.getKerberos()!= null && _castedSrcData.getKerberos().equals(_castedTargetData.getKerberos()))
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProjitoAddressData _castedSrcData = (ProjitoAddressData) _srcData;
+			return HashUtil.hash(_castedSrcData.getKerberos());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProjitoAddressData _castedSrcData = (ProjitoAddressData) _srcData;
+			return HashUtil.offHeapHash(_castedSrcData.zGetKerberosAsInt());
+		}
+	}
+
+	public ProjitoAddressAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ProjitoAddressFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ProjitoAddressData zSynchronizedGetData()
+	{
+		return (ProjitoAddressData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ProjitoAddressFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	public void insertForRecovery() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertForRecovery(this);
+	}
+
+	public void insertWithIncrement() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrement(this);
+	}
+
+	public void insertWithIncrementUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrementUntil(this, exclusiveUntil);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public ProjitoAddress zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		ProjitoAddress original = (ProjitoAddress) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ProjitoAddressFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ProjitoAddress getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoAddressAbstract result = (ProjitoAddressAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ProjitoAddress ) result;
+	}
+
+	public ProjitoAddress zFindOriginal()
+	{
+		ProjitoAddressData data = (ProjitoAddressData) this.currentData;
+		Operation op;
+		op = ProjitoAddressFinder.id().eq(data.getId());
+		op = op.and(ProjitoAddressFinder.processingDate().eq(this.getProcessingDate()));
+		return ProjitoAddressFinder.findOne(op);
+	}
+
+	public ProjitoAddress getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoAddressAbstract result = (ProjitoAddressAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ProjitoAddress ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ProjitoAddress copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (ProjitoAddress) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ProjitoAddress copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ProjitoAddress) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ProjitoAddressData data = (ProjitoAddressData) this.currentData;
+			Operation op = ProjitoAddressFinder.processingDate().eq(this.processingDate);
+			op = op.and(ProjitoAddressFinder.id().eq(data.getId()));
+			return ProjitoAddressFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isCityNull()
+	{
+		return this.zSynchronizedGetData().isCityNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isKerberosNull()
+	{
+		return this.zSynchronizedGetData().isKerberosNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public boolean isStreetNull()
+	{
+		return this.zSynchronizedGetData().isStreetNull();
+	}
+
+	public boolean isZipCodeNull()
+	{
+		return this.zSynchronizedGetData().isZipCodeNull();
+	}
+
+	public String getCity()
+	{
+		return this.zSynchronizedGetData().getCity();
+	}
+
+	public void setCity(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'city' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoAddressFinder.city(), newValue, false );
+	}
+
+	public long getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(long newValue)
+	{
+		zSetLong(ProjitoAddressFinder.id(), newValue, true ,false);
+	}
+
+	public String getKerberos()
+	{
+		return this.zSynchronizedGetData().getKerberos();
+	}
+
+	public void setKerberos(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(ProjitoAddressFinder.kerberos(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoAddressFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoAddressFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoAddressFinder.state(), newValue, false );
+	}
+
+	public String getStreet()
+	{
+		return this.zSynchronizedGetData().getStreet();
+	}
+
+	public void setStreet(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'street' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoAddressFinder.street(), newValue, false );
+	}
+
+	public String getZipCode()
+	{
+		return this.zSynchronizedGetData().getZipCode();
+	}
+
+	public void setZipCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'zipCode' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoAddressFinder.zipCode(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProjitoAddressData _newData = (ProjitoAddressData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ProjitoAddressData _newData = (ProjitoAddressData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ProjitoAddressData _newData = (ProjitoAddressData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProjitoEmployee.kerberos = this.kerberos</pre>
+	* @see ProjitoEmployee#getAddresses() reverse relationship ProjitoEmployee.getAddresses()
+	* @return The employee
+	*/
+	public ProjitoEmployee getEmployee()
+	{
+		ProjitoEmployee _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoAddressData _data = (ProjitoAddressData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ProjitoEmployeeFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, foremployee,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (ProjitoEmployee) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoAddressFinder.employee().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getEmployee() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ProjitoEmployee) _data.getEmployee();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoAddressFinder.employee().zGetRelationshipMultiExtractor(), this);
+					_result = ProjitoEmployeeFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoAddressData) _behavior.getCurrentDataForWrite(this);
+				_data.setEmployee(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProjitoEmployee) _data.getEmployee();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoAddressFinder.employee().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProjitoEmployeeFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setEmployee(ProjitoEmployee employee)
+	{
+		ProjitoEmployee _employee = (ProjitoEmployee) employee;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoAddressData _data = (ProjitoAddressData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getEmployee();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((ProjitoEmployee)_prev).getAddresses()).zMarkMoved( (ProjitoAddress) this);
+			}
+
+			_data.setEmployee(_employee);
+			_employee.getAddresses().add((ProjitoAddress) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_employee == null)
+			{
+				this.setKerberos(null);
+			}
+			else
+			{
+				this.setKerberos(
+					_employee.getKerberos());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContaineremployee(ProjitoEmployeeAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoAddressData _data = (ProjitoAddressData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setEmployee(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return ProjitoAddressFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProjitoAddressData.ProjitoAddressDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ProjitoAddressData data = (ProjitoAddressData) ProjitoAddressFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ProjitoAddress has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromProjitoAddressData( ProjitoAddressData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromProjitoAddressData( ProjitoAddressData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ProjitoAddressFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProjitoAddressFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoAddress getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ProjitoAddressAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ProjitoAddressAbstract from = (ProjitoAddressAbstract) f;
+		ProjitoAddressData newData = from.zSynchronizedGetData();
+		this.setCity(newData.getCity());
+		this.setKerberos(newData.getKerberos());
+		this.setState(newData.getState());
+		this.setStreet(newData.getStreet());
+		this.setZipCode(newData.getZipCode());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ProjitoAddressData newData = (ProjitoAddressData) d;
+		ProjitoAddressData data = (ProjitoAddressData) nd;
+		if (ProjitoAddressFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ProjitoAddressFinder.city(), false);
+		changed |= zUpdateLong(behavior, data, newData, ProjitoAddressFinder.id(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoAddressFinder.kerberos(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoAddressFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoAddressFinder.street(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoAddressFinder.zipCode(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ProjitoAddressData data = ((ProjitoAddressData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ProjitoAddressData data = ((ProjitoAddressData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ProjitoAddressData data = ((ProjitoAddressData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public long generateAndSetId()
+	{
+		long nextValue =(long) this.generateId();
+		this.setId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsIdSet()
+	{
+		ProjitoAddressData data = this.zSynchronizedGetData();
+		return data.zGetIsIdSet();
+	}
+
+	protected long generateId()
+	{
+		Object sourceAttribute = null;
+		ProjitoAddressFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("projitoAddress", "com.gs.fw.common.mithra.test.domain.ProjitoSimulatedSequenceFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		ProjitoAddressData data = (ProjitoAddressData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsIdSet())
+		{
+			long newValue = this.generateId();
+			data.setId(newValue);
+		}
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity()), ProjitoAddressFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ProjitoAddressData localData = (ProjitoAddressData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1133 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ProjitoAddressData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 48;
+	boolean isCityNull();
+	String getCity();
+	void setCity(String value);
+	void setCityNull();
+	int zGetCityAsInt();
+	boolean isIdNull();
+	long getId();
+	void setId(long value);
+	void setIdNull();
+	boolean isKerberosNull();
+	String getKerberos();
+	void setKerberos(String value);
+	void setKerberosNull();
+	int zGetKerberosAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isStateNull();
+	String getState();
+	void setState(String value);
+	void setStateNull();
+	int zGetStateAsInt();
+	boolean isStreetNull();
+	String getStreet();
+	void setStreet(String value);
+	void setStreetNull();
+	int zGetStreetAsInt();
+	boolean isZipCodeNull();
+	String getZipCode();
+	void setZipCode(String value);
+	void setZipCodeNull();
+	int zGetZipCodeAsInt();
+	boolean zGetIsIdSet();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getEmployee();
+	void setEmployee(Object related);
+	public class ProjitoAddressDataOnHeap implements ProjitoAddressData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private String city;
+		private long id;
+		private String kerberos;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String state;
+		private String street;
+		private String zipCode;
+		public boolean isCityNull()
+		{
+			return this.getCity() == null;
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isKerberosNull()
+		{
+			return this.getKerberos() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStateNull()
+		{
+			return this.getState() == null;
+		}
+
+		public boolean isStreetNull()
+		{
+			return this.getStreet() == null;
+		}
+
+		public boolean isZipCodeNull()
+		{
+			return this.getZipCode() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.city);
+			out.writeLong(this.id);
+			out.writeBoolean(_isIdSet);
+			out.writeObject(this.kerberos);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, ProjitoAddressFinder.processingDate().getInfinityDate());
+			out.writeObject(this.state);
+			out.writeObject(this.street);
+			out.writeObject(this.zipCode);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getCity()
+		{
+			return this.city;
+		}
+
+		public int zGetCityAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(city);
+		}
+
+		public void setCity(String value)
+		{
+			this.city = StringPool.getInstance().getOrAddToCache(value, ProjitoAddressFinder.isFullCache());
+		}
+
+		public void setCityNull()
+		{
+			this.setCity(null);
+		}
+
+		public long getId()
+		{
+			return this.id;
+		}
+
+		public void setId(long value)
+		{
+			this.id = value;
+			_isIdSet = true;
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getKerberos()
+		{
+			return this.kerberos;
+		}
+
+		public int zGetKerberosAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(kerberos);
+		}
+
+		public void setKerberos(String value)
+		{
+			this.kerberos = StringPool.getInstance().getOrAddToCache(value, ProjitoAddressFinder.isFullCache());
+		}
+
+		public void setKerberosNull()
+		{
+			this.setKerberos(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, ProjitoAddressFinder.isFullCache(), ProjitoAddressFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, ProjitoAddressFinder.isFullCache(), ProjitoAddressFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getState()
+		{
+			return this.state;
+		}
+
+		public int zGetStateAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+		}
+
+		public void setState(String value)
+		{
+			this.state = StringPool.getInstance().getOrAddToCache(value, ProjitoAddressFinder.isFullCache());
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public String getStreet()
+		{
+			return this.street;
+		}
+
+		public int zGetStreetAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(street);
+		}
+
+		public void setStreet(String value)
+		{
+			this.street = StringPool.getInstance().getOrAddToCache(value, ProjitoAddressFinder.isFullCache());
+		}
+
+		public void setStreetNull()
+		{
+			this.setStreet(null);
+		}
+
+		public String getZipCode()
+		{
+			return this.zipCode;
+		}
+
+		public int zGetZipCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(zipCode);
+		}
+
+		public void setZipCode(String value)
+		{
+			this.zipCode = StringPool.getInstance().getOrAddToCache(value, ProjitoAddressFinder.isFullCache());
+		}
+
+		public void setZipCodeNull()
+		{
+			this.setZipCode(null);
+		}
+
+		public boolean _isIdSet;
+		public boolean zGetIsIdSet()
+		{
+			return _isIdSet;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(ProjitoAddressDataOnHeap copy, boolean withRelationships)
+		{
+			copy.city = this.city;
+			copy.id = this.id;
+			copy.kerberos = this.kerberos;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.state = this.state;
+			copy.street = this.street;
+			copy.zipCode = this.zipCode;
+			copy._isIdSet = this._isIdSet;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.city = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoAddressFinder.isFullCache());
+			this.id = in.readLong();
+			_isIdSet = in.readBoolean();
+			this.kerberos = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoAddressFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), ProjitoAddressFinder.isFullCache(), ProjitoAddressFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, ProjitoAddressFinder.processingDate().getInfinityDate()), ProjitoAddressFinder.isFullCache(), ProjitoAddressFinder.isOffHeap());
+			this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoAddressFinder.isFullCache());
+			this.street = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoAddressFinder.isFullCache());
+			this.zipCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoAddressFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final ProjitoAddressData otherData = (ProjitoAddressData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeLong(this.id);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, ProjitoAddressFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.id = in.readLong();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), ProjitoAddressFinder.isFullCache(), ProjitoAddressFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, ProjitoAddressFinder.processingDate().getInfinityDate()), ProjitoAddressFinder.isFullCache(), ProjitoAddressFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getEmployee()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setEmployee(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			ProjitoAddressDataOffHeap data = new ProjitoAddressDataOffHeap();
+			data.setCity(this.getCity());
+			data.setId(this.getId());
+			data.setKerberos(this.getKerberos());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setState(this.getState());
+			data.setStreet(this.getStreet());
+			data.setZipCode(this.getZipCode());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ProjitoAddressData projitoAddressData = (ProjitoAddressData) newData;
+			this.setCity(projitoAddressData.getCity());
+			this.setKerberos(projitoAddressData.getKerberos());
+			this.setProcessingDateFrom(projitoAddressData.getProcessingDateFrom());
+			this.setProcessingDateTo(projitoAddressData.getProcessingDateTo());
+			this.setState(projitoAddressData.getState());
+			this.setStreet(projitoAddressData.getStreet());
+			this.setZipCode(projitoAddressData.getZipCode());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ProjitoAddressData other = (ProjitoAddressData) newData;
+			if (!isCityNull() ? !getCity().equals(other.getCity()) : !other.isCityNull())
+			{
+				return true;
+			}
+
+			if (!isKerberosNull() ? !getKerberos().equals(other.getKerberos()) : !other.isKerberosNull())
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			if (!isStreetNull() ? !getStreet().equals(other.getStreet()) : !other.isStreetNull())
+			{
+				return true;
+			}
+
+			if (!isZipCodeNull() ? !getZipCode().equals(other.getZipCode()) : !other.isZipCodeNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ProjitoAddressDataOnHeap copy = new ProjitoAddressDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ProjitoAddressDataOnHeap copy = new ProjitoAddressDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ProjitoAddressData otherData = (ProjitoAddressData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ProjitoAddressData otherData = (ProjitoAddressData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoAddressData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ProjitoAddressFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ProjitoAddressFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoAddressData";
+		}
+	}
+
+	public class ProjitoAddressDataOffHeap extends MithraOffHeapDataObject implements ProjitoAddressData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public ProjitoAddressDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 28);
+		}
+
+		public ProjitoAddressDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isCityNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isKerberosNull()
+		{
+			return zIsStringNull(_storage, 16);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public boolean isStateNull()
+		{
+			return zIsStringNull(_storage, 36);
+		}
+
+		public boolean isStreetNull()
+		{
+			return zIsStringNull(_storage, 40);
+		}
+
+		public boolean isZipCodeNull()
+		{
+			return zIsStringNull(_storage, 44);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getCity());
+			out.writeLong(this.getId());
+			out.writeBoolean(true);
+			out.writeObject(this.getKerberos());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ProjitoAddressFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getState());
+			out.writeObject(this.getStreet());
+			out.writeObject(this.getZipCode());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getCity()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetCityAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setCity(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setCityNull()
+		{
+			this.setCity(null);
+		}
+
+		public long getId()
+		{
+			return zGetLong(_storage, 4);
+		}
+
+		public void setId(long value)
+		{
+			zSetLong(_storage, value, 4, -1, -1);
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getKerberos()
+		{
+			return zGetString(_storage, 16);
+		}
+
+		public int zGetKerberosAsInt()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setKerberos(String value)
+		{
+			zSetString(_storage, value, 16);
+		}
+
+		public void setKerberosNull()
+		{
+			this.setKerberos(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getState()
+		{
+			return zGetString(_storage, 36);
+		}
+
+		public int zGetStateAsInt()
+		{
+			return zGetInteger(_storage, 36);
+		}
+
+		public void setState(String value)
+		{
+			zSetString(_storage, value, 36);
+		}
+
+		public void setStateNull()
+		{
+			this.setState(null);
+		}
+
+		public String getStreet()
+		{
+			return zGetString(_storage, 40);
+		}
+
+		public int zGetStreetAsInt()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setStreet(String value)
+		{
+			zSetString(_storage, value, 40);
+		}
+
+		public void setStreetNull()
+		{
+			this.setStreet(null);
+		}
+
+		public String getZipCode()
+		{
+			return zGetString(_storage, 44);
+		}
+
+		public int zGetZipCodeAsInt()
+		{
+			return zGetInteger(_storage, 44);
+		}
+
+		public void setZipCode(String value)
+		{
+			zSetString(_storage, value, 44);
+		}
+
+		public void setZipCodeNull()
+		{
+			this.setZipCode(null);
+		}
+
+		public boolean zGetIsIdSet()
+		{
+			return true;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(ProjitoAddressDataOnHeap copy, boolean withRelationships)
+		{
+			copy.city = this.getCity();
+			copy.id = this.getId();
+			copy.kerberos = this.getKerberos();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.state = this.getState();
+			copy.street = this.getStreet();
+			copy.zipCode = this.getZipCode();
+			copy._isIdSet = true;
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			in.readBoolean();
+			zSetString(_storage, (String)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetString(_storage, (String)in.readObject(), 36);
+			zSetString(_storage, (String)in.readObject(), 40);
+			zSetString(_storage, (String)in.readObject(), 44);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof ProjitoAddressDataOffHeap)
+			{
+				final ProjitoAddressDataOffHeap otherData = (ProjitoAddressDataOffHeap) other;
+				if (this.zGetLong(_storage, 4) != otherData.zGetLong(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final ProjitoAddressData otherData = (ProjitoAddressData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeLong(this.getId());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ProjitoAddressFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getEmployee()
+		{
+			return null;
+		}
+
+		public void setEmployee(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ProjitoAddressData projitoAddressData = (ProjitoAddressData) newData;
+			this.setCity(projitoAddressData.getCity());
+			this.setKerberos(projitoAddressData.getKerberos());
+			this.setProcessingDateFrom(projitoAddressData.getProcessingDateFrom());
+			this.setProcessingDateTo(projitoAddressData.getProcessingDateTo());
+			this.setState(projitoAddressData.getState());
+			this.setStreet(projitoAddressData.getStreet());
+			this.setZipCode(projitoAddressData.getZipCode());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ProjitoAddressData other = (ProjitoAddressData) newData;
+			if (!isCityNull() ? !getCity().equals(other.getCity()) : !other.isCityNull())
+			{
+				return true;
+			}
+
+			if (!isKerberosNull() ? !getKerberos().equals(other.getKerberos()) : !other.isKerberosNull())
+			{
+				return true;
+			}
+
+			if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+			{
+				return true;
+			}
+
+			if (!isStreetNull() ? !getStreet().equals(other.getStreet()) : !other.isStreetNull())
+			{
+				return true;
+			}
+
+			if (!isZipCodeNull() ? !getZipCode().equals(other.getZipCode()) : !other.isZipCodeNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ProjitoAddressDataOnHeap copy = new ProjitoAddressDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ProjitoAddressDataOnHeap copy = new ProjitoAddressDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ProjitoAddressData otherData = (ProjitoAddressData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ProjitoAddressData otherData = (ProjitoAddressData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoAddressData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ProjitoAddressFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ProjitoAddressFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoAddressData";
+		}
+	}
+}
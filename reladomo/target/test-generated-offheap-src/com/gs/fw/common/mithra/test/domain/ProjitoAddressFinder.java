@@ -0,0 +1,837 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProjitoAddressFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ProjitoAddress";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ProjitoAddress";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProjitoAddress");
+	private static final ProjitoAddressSingleFinder<ProjitoAddress, Object, ProjitoAddress> finder = new ProjitoAddressSingleFinder<ProjitoAddress, Object, ProjitoAddress>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ProjitoAddressFinder.ProjitoAddressRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("kerberos");
+		finderMethodMap.addNormalAttributeName("street");
+		finderMethodMap.addNormalAttributeName("city");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("zipCode");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("employee");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ProjitoAddress findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ProjitoAddress findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ProjitoAddressList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoAddressList) finder.findMany(operation);
+	}
+
+	public static ProjitoAddressList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoAddressList) finder.findManyBypassCache(operation);
+	}
+
+	private static ProjitoAddress findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ProjitoAddress) FinderUtils.findOne(found);
+	}
+
+	public static ProjitoAddress findByPrimaryKey(long id, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProjitoAddressData _castedTargetData = (ProjitoAddressData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getId())
+			{
+				return ProjitoAddressFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static ProjitoAddress zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ProjitoAddress) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ProjitoAddressRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ProjitoAddress, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> kerberos;
+		private StringAttribute<ParentOwnerType> street;
+		private StringAttribute<ParentOwnerType> city;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> zipCode;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ProjitoAddressEmployeeFinderSubclass<ParentOwnerType> employee;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ProjitoAddressRelatedFinder()
+		{
+			super();
+		}
+
+		public ProjitoAddressRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoAddressFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ProjitoAddressFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ProjitoAddressFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ProjitoAddressFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.id();
+			attributes[1] = this.kerberos();
+			attributes[2] = this.street();
+			attributes[3] = this.city();
+			attributes[4] = this.state();
+			attributes[5] = this.zipCode();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.employee());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ProjitoAddress findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoAddressFinder.findOne(operation, false);
+		}
+
+		public ProjitoAddress findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoAddressFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ProjitoAddress> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ProjitoAddressList((Operation) operation);
+		}
+
+		public MithraList<? extends ProjitoAddress> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ProjitoAddressList result = (ProjitoAddressList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ProjitoAddress> constructEmptyList()
+		{
+			return new ProjitoAddressList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1546951893;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> id()
+		{
+			LongAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,4,-1,-1,true, false) :
+					new MappedLongAttribute(ProjitoAddressFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> kerberos()
+		{
+			StringAttribute<ParentOwnerType> result = this.kerberos;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("KERBEROS","","kerberos",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,16,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(ProjitoAddressFinder.kerberos(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("employee");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ProjitoEmployee", "addresses");
+				this.kerberos = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> street()
+		{
+			StringAttribute<ParentOwnerType> result = this.street;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STREET","","street",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,40,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoAddressFinder.street(), this.mapper, this.zGetValueSelector());
+				this.street = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> city()
+		{
+			StringAttribute<ParentOwnerType> result = this.city;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CITY","","city",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoAddressFinder.city(), this.mapper, this.zGetValueSelector());
+				this.city = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,36,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoAddressFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> zipCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.zipCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ZIP_CODE","","zipCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,44,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoAddressFinder.zipCode(), this.mapper, this.zGetValueSelector());
+				this.zipCode = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,ProjitoAddressFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoAddressFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,ProjitoAddressFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoAddressFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ProjitoAddressFinder.processingDateInfinity,false,false,ProjitoAddressFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ProjitoAddressFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoEmployeeFinder.ProjitoEmployeeSingleFinderForRelatedClasses<ParentOwnerType, ProjitoEmployee, ProjitoAddress> employee()
+		{
+			ProjitoAddressEmployeeFinderSubclass<ParentOwnerType> result = this.employee;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoEmployeeFinder.zGetProjitoEmployeeAddressesMapper());
+				newMapper.setToMany(false);
+				result = new ProjitoAddressEmployeeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.employee = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ProjitoAddressFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ProjitoAddressFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ProjitoAddressCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ProjitoAddressRelatedFinder<ParentOwnerType, ReturnType, ProjitoAddressList, OwnerType>
+	{
+		public ProjitoAddressCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ProjitoAddressCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ProjitoAddressCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoAddressCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ProjitoAddressSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ProjitoAddressRelatedFinder<ParentOwnerType, ReturnType, ProjitoAddressList, OwnerType>
+	implements ToOneFinder
+	{
+		public ProjitoAddressSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ProjitoAddressSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ProjitoAddress other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ProjitoAddress findByPrimaryKey(long id, Timestamp processingDate)
+		{
+			ProjitoAddress _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ProjitoAddress) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ProjitoAddressSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ProjitoAddressSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoAddressSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to PROJITO_ADDRESS.ID **/
+	public static LongAttribute<ProjitoAddress> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to PROJITO_ADDRESS.KERBEROS **/
+	public static StringAttribute<ProjitoAddress> kerberos()
+	{
+		return finder.kerberos();
+	}
+
+	/** maps to PROJITO_ADDRESS.STREET **/
+	public static StringAttribute<ProjitoAddress> street()
+	{
+		return finder.street();
+	}
+
+	/** maps to PROJITO_ADDRESS.CITY **/
+	public static StringAttribute<ProjitoAddress> city()
+	{
+		return finder.city();
+	}
+
+	/** maps to PROJITO_ADDRESS."STATE" **/
+	public static StringAttribute<ProjitoAddress> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to PROJITO_ADDRESS.ZIP_CODE **/
+	public static StringAttribute<ProjitoAddress> zipCode()
+	{
+		return finder.zipCode();
+	}
+
+	/** maps to PROJITO_ADDRESS.IN_Z **/
+	public static TimestampAttribute<ProjitoAddress> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to PROJITO_ADDRESS.OUT_Z **/
+	public static TimestampAttribute<ProjitoAddress> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ProjitoAddress> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ProjitoEmployeeFinder.ProjitoEmployeeSingleFinderForRelatedClasses<ProjitoAddress, ProjitoEmployee, ProjitoAddress> employee()
+	{
+		return finder.employee();
+	}
+
+	public static class ProjitoAddressEmployeeFinderSubclass<ParentOwnerType> extends ProjitoEmployeeFinder.ProjitoEmployeeSingleFinderForRelatedClasses<ParentOwnerType, ProjitoEmployee, ProjitoAddress>
+	{
+		public ProjitoAddressEmployeeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "employee";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoEmployeeFinder.kerberos(),
+				ProjitoEmployeeFinder.processingDate()).withExtractors(
+				ProjitoAddressFinder.kerberos(),
+				ProjitoAddressFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoAddressEmployeeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProjitoEmployee plainValueOf(ProjitoAddress _obj)
+		{
+			return _obj.getEmployee();
+		}
+
+		protected ProjitoEmployeeList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoAddressList)_obj).getEmployees();
+		}
+	}
+
+	public static Operation eq(ProjitoAddress other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ProjitoAddressSingleFinder<ProjitoAddress, Object, ProjitoAddress> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			kerberos()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProjitoAddress");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,1122 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ProjitoData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 48;
+	boolean isBvpNull();
+	String getBvp();
+	void setBvp(String value);
+	void setBvpNull();
+	int zGetBvpAsInt();
+	boolean isDueDateNull();
+	Timestamp getDueDate();
+	void setDueDate(Timestamp value);
+	void setDueDateNull();
+	long zGetDueDateAsLong();
+	boolean isIdNull();
+	long getId();
+	void setId(long value);
+	void setIdNull();
+	boolean isNameNull();
+	String getName();
+	void setName(String value);
+	void setNameNull();
+	int zGetNameAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isStatusNull();
+	String getStatus();
+	void setStatus(String value);
+	void setStatusNull();
+	int zGetStatusAsInt();
+	boolean zGetIsIdSet();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getMeasuresOfSuccess();
+	void setMeasuresOfSuccess(Object related);
+	Object getMemberships();
+	void setMemberships(Object related);
+	Object getVersion();
+	void setVersion(Object related);
+	public class ProjitoDataOnHeap implements ProjitoData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private String bvp;
+		private Timestamp dueDate;
+		private long id;
+		private String name;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String status;
+		public boolean isBvpNull()
+		{
+			return this.getBvp() == null;
+		}
+
+		public boolean isDueDateNull()
+		{
+			return this.getDueDate() == null;
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isNameNull()
+		{
+			return this.getName() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStatusNull()
+		{
+			return this.getStatus() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.bvp);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.dueDate);
+			out.writeLong(this.id);
+			out.writeBoolean(_isIdSet);
+			out.writeObject(this.name);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, ProjitoFinder.processingDate().getInfinityDate());
+			out.writeObject(this.status);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getBvp()
+		{
+			return this.bvp;
+		}
+
+		public int zGetBvpAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(bvp);
+		}
+
+		public void setBvp(String value)
+		{
+			this.bvp = StringPool.getInstance().getOrAddToCache(value, ProjitoFinder.isFullCache());
+		}
+
+		public void setBvpNull()
+		{
+			this.setBvp(null);
+		}
+
+		public Timestamp getDueDate()
+		{
+			return this.dueDate;
+		}
+
+		public long zGetDueDateAsLong()
+		{
+			if (dueDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return dueDate.getTime();
+		}
+
+		public void setDueDate(Timestamp value)
+		{
+			this.dueDate = TimestampPool.getInstance().getOrAddToCache(value, ProjitoFinder.isFullCache(), ProjitoFinder.isOffHeap());
+		}
+
+		public void setDueDateNull()
+		{
+			this.setDueDate(null);
+		}
+
+		public long getId()
+		{
+			return this.id;
+		}
+
+		public void setId(long value)
+		{
+			this.id = value;
+			_isIdSet = true;
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getName()
+		{
+			return this.name;
+		}
+
+		public int zGetNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+		}
+
+		public void setName(String value)
+		{
+			this.name = StringPool.getInstance().getOrAddToCache(value, ProjitoFinder.isFullCache());
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, ProjitoFinder.isFullCache(), ProjitoFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, ProjitoFinder.isFullCache(), ProjitoFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getStatus()
+		{
+			return this.status;
+		}
+
+		public int zGetStatusAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(status);
+		}
+
+		public void setStatus(String value)
+		{
+			this.status = StringPool.getInstance().getOrAddToCache(value, ProjitoFinder.isFullCache());
+		}
+
+		public void setStatusNull()
+		{
+			this.setStatus(null);
+		}
+
+		public boolean _isIdSet;
+		public boolean zGetIsIdSet()
+		{
+			return _isIdSet;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(ProjitoDataOnHeap copy, boolean withRelationships)
+		{
+			copy.bvp = this.bvp;
+			copy.dueDate = this.dueDate;
+			copy.id = this.id;
+			copy.name = this.name;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.status = this.status;
+			copy._isIdSet = this._isIdSet;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[3];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.bvp = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoFinder.isFullCache());
+			this.dueDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ProjitoFinder.isFullCache(), ProjitoFinder.isOffHeap());
+			this.id = in.readLong();
+			_isIdSet = in.readBoolean();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), ProjitoFinder.isFullCache(), ProjitoFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, ProjitoFinder.processingDate().getInfinityDate()), ProjitoFinder.isFullCache(), ProjitoFinder.isOffHeap());
+			this.status = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final ProjitoData otherData = (ProjitoData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeLong(this.id);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, ProjitoFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.id = in.readLong();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), ProjitoFinder.isFullCache(), ProjitoFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, ProjitoFinder.processingDate().getInfinityDate()), ProjitoFinder.isFullCache(), ProjitoFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getMeasuresOfSuccess()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setMeasuresOfSuccess(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getMemberships()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setMemberships(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getVersion()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[2];
+			}
+
+			return null;
+		}
+
+		public void setVersion(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[2] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			ProjitoDataOffHeap data = new ProjitoDataOffHeap();
+			data.setBvp(this.getBvp());
+			data.setDueDate(this.getDueDate());
+			data.setId(this.getId());
+			data.setName(this.getName());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setStatus(this.getStatus());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ProjitoData projitoData = (ProjitoData) newData;
+			this.setBvp(projitoData.getBvp());
+			this.setDueDate(projitoData.getDueDate());
+			this.setName(projitoData.getName());
+			this.setProcessingDateFrom(projitoData.getProcessingDateFrom());
+			this.setProcessingDateTo(projitoData.getProcessingDateTo());
+			this.setStatus(projitoData.getStatus());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ProjitoData other = (ProjitoData) newData;
+			if (!isBvpNull() ? !getBvp().equals(other.getBvp()) : !other.isBvpNull())
+			{
+				return true;
+			}
+
+			if (!isDueDateNull() ? !getDueDate().equals(other.getDueDate()) : !other.isDueDateNull())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if (!isStatusNull() ? !getStatus().equals(other.getStatus()) : !other.isStatusNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ProjitoDataOnHeap copy = new ProjitoDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ProjitoDataOnHeap copy = new ProjitoDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ProjitoData otherData = (ProjitoData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ProjitoData otherData = (ProjitoData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ProjitoFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ProjitoFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoData";
+		}
+	}
+
+	public class ProjitoDataOffHeap extends MithraOffHeapDataObject implements ProjitoData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public ProjitoDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 28);
+			this.zSetTimestamp(_storage, value, 36);
+		}
+
+		public ProjitoDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBvpNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isDueDateNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isNameNull()
+		{
+			return zIsStringNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 36);
+		}
+
+		public boolean isStatusNull()
+		{
+			return zIsStringNull(_storage, 44);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getBvp());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetDueDateAsLong());
+			out.writeLong(this.getId());
+			out.writeBoolean(true);
+			out.writeObject(this.getName());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ProjitoFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getStatus());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getBvp()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetBvpAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setBvp(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setBvpNull()
+		{
+			this.setBvp(null);
+		}
+
+		public Timestamp getDueDate()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetDueDateAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setDueDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setDueDateNull()
+		{
+			this.setDueDate(null);
+		}
+
+		public long getId()
+		{
+			return zGetLong(_storage, 4);
+		}
+
+		public void setId(long value)
+		{
+			zSetLong(_storage, value, 4, -1, -1);
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getName()
+		{
+			return zGetString(_storage, 24);
+		}
+
+		public int zGetNameAsInt()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setName(String value)
+		{
+			zSetString(_storage, value, 24);
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 36);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 36);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 36);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getStatus()
+		{
+			return zGetString(_storage, 44);
+		}
+
+		public int zGetStatusAsInt()
+		{
+			return zGetInteger(_storage, 44);
+		}
+
+		public void setStatus(String value)
+		{
+			zSetString(_storage, value, 44);
+		}
+
+		public void setStatusNull()
+		{
+			this.setStatus(null);
+		}
+
+		public boolean zGetIsIdSet()
+		{
+			return true;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(ProjitoDataOnHeap copy, boolean withRelationships)
+		{
+			copy.bvp = this.getBvp();
+			copy.dueDate = this.getDueDate();
+			copy.id = this.getId();
+			copy.name = this.getName();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.status = this.getStatus();
+			copy._isIdSet = true;
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			in.readBoolean();
+			zSetString(_storage, (String)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetString(_storage, (String)in.readObject(), 44);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof ProjitoDataOffHeap)
+			{
+				final ProjitoDataOffHeap otherData = (ProjitoDataOffHeap) other;
+				if (this.zGetLong(_storage, 4) != otherData.zGetLong(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final ProjitoData otherData = (ProjitoData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeLong(this.getId());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ProjitoFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getMeasuresOfSuccess()
+		{
+			return null;
+		}
+
+		public void setMeasuresOfSuccess(Object related)
+		{
+		}
+
+		public Object getMemberships()
+		{
+			return null;
+		}
+
+		public void setMemberships(Object related)
+		{
+		}
+
+		public Object getVersion()
+		{
+			return null;
+		}
+
+		public void setVersion(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ProjitoData projitoData = (ProjitoData) newData;
+			this.setBvp(projitoData.getBvp());
+			this.setDueDate(projitoData.getDueDate());
+			this.setName(projitoData.getName());
+			this.setProcessingDateFrom(projitoData.getProcessingDateFrom());
+			this.setProcessingDateTo(projitoData.getProcessingDateTo());
+			this.setStatus(projitoData.getStatus());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ProjitoData other = (ProjitoData) newData;
+			if (!isBvpNull() ? !getBvp().equals(other.getBvp()) : !other.isBvpNull())
+			{
+				return true;
+			}
+
+			if (!isDueDateNull() ? !getDueDate().equals(other.getDueDate()) : !other.isDueDateNull())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if (!isStatusNull() ? !getStatus().equals(other.getStatus()) : !other.isStatusNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ProjitoDataOnHeap copy = new ProjitoDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ProjitoDataOnHeap copy = new ProjitoDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ProjitoData otherData = (ProjitoData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ProjitoData otherData = (ProjitoData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ProjitoFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ProjitoFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoData";
+		}
+	}
+}
@@ -0,0 +1,917 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ProjitoEmployeeAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ProjitoEmployeeFinder.processingDate()
+	, ProjitoEmployeeFinder.zGetDoubleAttributes(),ProjitoEmployeeFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ProjitoEmployee.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public boolean isMembershipsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForRead(this);
+		ProjitoMembershipList memberships =
+		(ProjitoMembershipList) _data.getMemberships();
+		if( memberships != null)
+		{
+			return memberships.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public boolean isAddressesModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForRead(this);
+		ProjitoAddressList addresses =
+		(ProjitoAddressList) _data.getAddresses();
+		if( addresses != null)
+		{
+			return addresses.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public ProjitoEmployeeAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ProjitoEmployeeFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ProjitoEmployeeData zSynchronizedGetData()
+	{
+		return (ProjitoEmployeeData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ProjitoEmployeeFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+		ProjitoMembershipList memberships =
+		(ProjitoMembershipList ) _data.getMemberships();
+		ProjitoAddressList addresses =
+		(ProjitoAddressList ) _data.getAddresses();
+		_behavior.insert(this);
+		if (memberships != null)
+		{
+			memberships.cascadeInsertAll();
+		}
+
+		if (addresses != null)
+		{
+			addresses.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		ProjitoEmployeeFinder.ProjitoEmployeeRelatedFinder parentFinder = (ProjitoEmployeeFinder.ProjitoEmployeeRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoEmployeeData _newData = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+		{
+			ProjitoMembershipList memberships =
+			(ProjitoMembershipList) _newData.getMemberships();
+			RelatedFinder dependentFinder = parentFinder.memberships();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, memberships != null, navigationStats);
+			if (memberships != null)
+			{
+				memberships.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		{
+			ProjitoAddressList addresses =
+			(ProjitoAddressList) _newData.getAddresses();
+			RelatedFinder dependentFinder = parentFinder.addresses();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, addresses != null, navigationStats);
+			if (addresses != null)
+			{
+				addresses.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public ProjitoEmployee zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+		ProjitoMembershipList memberships =
+		(ProjitoMembershipList ) _data.getMemberships();
+		ProjitoAddressList addresses =
+		(ProjitoAddressList ) _data.getAddresses();
+		ProjitoEmployee original = (ProjitoEmployee) _behavior.copyThenInsert(this);
+		if (memberships != null)
+		{
+			memberships.zCascadeCopyThenInsertAll();
+		}
+
+		if (addresses != null)
+		{
+			addresses.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ProjitoEmployeeFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ProjitoEmployee getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoEmployeeAbstract result = (ProjitoEmployeeAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ProjitoEmployee ) result;
+	}
+
+	public ProjitoEmployee zFindOriginal()
+	{
+		ProjitoEmployeeData data = (ProjitoEmployeeData) this.currentData;
+		Operation op;
+		op = ProjitoEmployeeFinder.kerberos().eq(data.getKerberos());
+		op = op.and(ProjitoEmployeeFinder.processingDate().eq(this.getProcessingDate()));
+		return ProjitoEmployeeFinder.findOne(op);
+	}
+
+	public ProjitoEmployee getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoEmployeeAbstract result = (ProjitoEmployeeAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ProjitoEmployee ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isMembershipsModifiedSinceDetachment()) return true;
+		if(isAddressesModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ProjitoEmployee copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (ProjitoEmployee) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ProjitoEmployee copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ProjitoEmployee) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ProjitoEmployeeData data = (ProjitoEmployeeData) this.currentData;
+			Operation op = ProjitoEmployeeFinder.processingDate().eq(this.processingDate);
+			op = op.and(ProjitoEmployeeFinder.kerberos().eq(data.getKerberos()));
+			return ProjitoEmployeeFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isKerberosNull()
+	{
+		return this.zSynchronizedGetData().isKerberosNull();
+	}
+
+	public boolean isNameNull()
+	{
+		return this.zSynchronizedGetData().isNameNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public String getKerberos()
+	{
+		return this.zSynchronizedGetData().getKerberos();
+	}
+
+	public void setKerberos(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		MithraDataObject d = zSetString(ProjitoEmployeeFinder.kerberos(), newValue, true );
+		if (d == null) return;
+		ProjitoEmployeeData data = (ProjitoEmployeeData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			ProjitoMembershipList memberships =
+			(ProjitoMembershipList) data.getMemberships();
+			if (memberships != null)
+			{
+				memberships.setKerberos(newValue);
+			}
+
+			ProjitoAddressList addresses =
+			(ProjitoAddressList) data.getAddresses();
+			if (addresses != null)
+			{
+				addresses.setKerberos(newValue);
+			}
+		}
+	}
+
+	public String getName()
+	{
+		return this.zSynchronizedGetData().getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoEmployeeFinder.name(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoEmployeeFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoEmployeeFinder.processingDateTo(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProjitoEmployeeData _newData = (ProjitoEmployeeData) _data;
+		{
+			ProjitoMembershipList memberships =
+			(ProjitoMembershipList) _newData.getMemberships();
+			if (memberships != null)
+			{
+				memberships.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+
+		{
+			ProjitoAddressList addresses =
+			(ProjitoAddressList) _newData.getAddresses();
+			if (addresses != null)
+			{
+				addresses.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ProjitoEmployeeData _newData = (ProjitoEmployeeData) behavior.getCurrentDataForRead(this);
+		if (_newData.getMemberships() != null && !(_newData.getMemberships() instanceof NulledRelation))
+		{
+			((ProjitoMembershipList)_newData.getMemberships()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getAddresses() != null && !(_newData.getAddresses() instanceof NulledRelation))
+		{
+			((ProjitoAddressList)_newData.getAddresses()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ProjitoEmployeeData _newData = (ProjitoEmployeeData) behavior.getCurrentDataForRead(this);
+		if (_newData.getMemberships() != null && !(_newData.getMemberships() instanceof NulledRelation))
+		{
+			((ProjitoMembershipList)_newData.getMemberships()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getAddresses() != null && !(_newData.getAddresses() instanceof NulledRelation))
+		{
+			((ProjitoAddressList)_newData.getAddresses()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.kerberos = ProjitoMembership.kerberos</pre>
+	* @see ProjitoMembership#getEmployee() reverse relationship ProjitoMembership.getEmployee()
+	* @return memberships
+	*/
+	public ProjitoMembershipList getMemberships()
+	{
+		ProjitoMembershipList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoEmployeeFinder.memberships().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (ProjitoMembershipList) _data.getMemberships();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoEmployeeFinder.memberships().zGetRelationshipMultiExtractor(), this);
+					_result = new ProjitoMembershipList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new MembershipsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+				_data.setMemberships(_result);
+				if (_result != null) _result.zSetParentContaineremployee(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProjitoMembershipList) _data.getMemberships();
+			if (_result == null)
+			{
+				_result = new ProjitoMembershipList();
+				_result.zSetAddHandler(new MembershipsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+				_data.setMemberships(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ProjitoMembershipList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new MembershipsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setMemberships(ProjitoMembershipList memberships)
+	{
+		ProjitoMembershipList _memberships = (ProjitoMembershipList) memberships;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _memberships != null)
+			{
+				_memberships.zMakeDetached(new RelationshipMultiEqualityOperation(ProjitoEmployeeFinder.memberships().zGetRelationshipMultiExtractor(), this),
+					_data.getMemberships());
+			}
+
+			_data.setMemberships(_memberships);
+			if (_memberships != null)
+			{
+				_memberships.setKerberos(_data.getKerberos());
+				_memberships.zSetParentContaineremployee(this);
+				_memberships.zSetAddHandler(new MembershipsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_memberships.zSetAddHandler(new MembershipsAddHandlerPersisted());
+			ProjitoMembershipList membershipsToDelete = new ProjitoMembershipList();
+			membershipsToDelete.addAll(this.getMemberships());
+			for(int i=0;i < _memberships.size(); i++)
+			{
+				ProjitoMembership item = _memberships.getProjitoMembershipAt(i);
+				if (!membershipsToDelete.remove(item))
+				{
+					item.setKerberos(_data.getKerberos());
+					item.cascadeInsert();
+				}
+			}
+
+			membershipsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.kerberos = ProjitoMeasureOfSuccess.accountableKerberos</pre>
+	* @see ProjitoMeasureOfSuccess#getAccountableEmployee() reverse relationship ProjitoMeasureOfSuccess.getAccountableEmployee()
+	* @return measures of success
+	*/
+	public ProjitoMeasureOfSuccessList getMeasuresOfSuccess()
+	{
+		ProjitoMeasureOfSuccessList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoEmployeeFinder.measuresOfSuccess().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoEmployeeFinder.measuresOfSuccess().zGetRelationshipMultiExtractor(), this);
+					_result = new ProjitoMeasureOfSuccessList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProjitoMeasureOfSuccessList) _data.getMeasuresOfSuccess();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoEmployeeFinder.measuresOfSuccess().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ProjitoMeasureOfSuccessList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setMeasuresOfSuccess(ProjitoMeasureOfSuccessList measuresOfSuccess)
+	{
+		ProjitoMeasureOfSuccessList _measuresOfSuccess = (ProjitoMeasureOfSuccessList) measuresOfSuccess;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setMeasuresOfSuccess(_measuresOfSuccess);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.kerberos = ProjitoAddress.kerberos</pre>
+	* Order By: <code>id DESC</code>.
+	* @see ProjitoAddress#getEmployee() reverse relationship ProjitoAddress.getEmployee()
+	* @return addresses
+	*/
+	public ProjitoAddressList getAddresses()
+	{
+		ProjitoAddressList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoEmployeeFinder.addresses().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (ProjitoAddressList) _data.getAddresses();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoEmployeeFinder.addresses().zGetRelationshipMultiExtractor(), this);
+					_result = new ProjitoAddressList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new AddressesAddHandlerInMemory());
+				}
+
+				_result.setOrderBy(ProjitoAddressFinder.id().descendingOrderBy());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+				_data.setAddresses(_result);
+				if (_result != null) _result.zSetParentContaineremployee(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProjitoAddressList) _data.getAddresses();
+			if (_result == null)
+			{
+				_result = new ProjitoAddressList();
+				_result.zSetAddHandler(new AddressesAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+				_data.setAddresses(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ProjitoAddressList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new AddressesAddHandlerPersisted());
+			_result.setOrderBy(ProjitoAddressFinder.id().descendingOrderBy());
+		}
+
+		return _result;
+	}
+
+	public void setAddresses(ProjitoAddressList addresses)
+	{
+		ProjitoAddressList _addresses = (ProjitoAddressList) addresses;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoEmployeeData _data = (ProjitoEmployeeData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _addresses != null)
+			{
+				_addresses.zMakeDetached(new RelationshipMultiEqualityOperation(ProjitoEmployeeFinder.addresses().zGetRelationshipMultiExtractor(), this),
+					_data.getAddresses());
+			}
+
+			_data.setAddresses(_addresses);
+			if (_addresses != null)
+			{
+				_addresses.setKerberos(_data.getKerberos());
+				_addresses.zSetParentContaineremployee(this);
+				_addresses.zSetAddHandler(new AddressesAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_addresses.zSetAddHandler(new AddressesAddHandlerPersisted());
+			ProjitoAddressList addressesToDelete = new ProjitoAddressList();
+			addressesToDelete.addAll(this.getAddresses());
+			for(int i=0;i < _addresses.size(); i++)
+			{
+				ProjitoAddress item = _addresses.getProjitoAddressAt(i);
+				if (!addressesToDelete.remove(item))
+				{
+					item.setKerberos(_data.getKerberos());
+					item.cascadeInsert();
+				}
+			}
+
+			addressesToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return ProjitoEmployeeFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProjitoEmployeeData.ProjitoEmployeeDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ProjitoEmployeeData data = (ProjitoEmployeeData) ProjitoEmployeeFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ProjitoEmployee has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromProjitoEmployeeData( ProjitoEmployeeData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromProjitoEmployeeData( ProjitoEmployeeData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ProjitoEmployeeFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProjitoEmployeeFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoEmployee getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ProjitoEmployeeAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ProjitoEmployeeAbstract from = (ProjitoEmployeeAbstract) f;
+		ProjitoEmployeeData newData = from.zSynchronizedGetData();
+		this.setName(newData.getName());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ProjitoEmployeeData newData = (ProjitoEmployeeData) d;
+		ProjitoEmployeeData data = (ProjitoEmployeeData) nd;
+		if (ProjitoEmployeeFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ProjitoEmployeeFinder.kerberos(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoEmployeeFinder.name(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getMemberships().cascadeTerminateAll();
+		this.getAddresses().cascadeTerminateAll();
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ProjitoEmployeeData data = ((ProjitoEmployeeData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ProjitoEmployeeData data = ((ProjitoEmployeeData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ProjitoEmployeeData data = ((ProjitoEmployeeData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity()), ProjitoEmployeeFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ProjitoEmployeeData localData = (ProjitoEmployeeData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class MembershipsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoMembership item = (ProjitoMembership) relatedObject;
+			item.setKerberos(getKerberos());
+			item.zSetParentContaineremployee(ProjitoEmployeeAbstract.this);
+		}
+	}
+
+	protected class MembershipsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoMembership item = (ProjitoMembership) relatedObject;
+			item.setKerberos(getKerberos());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class AddressesAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoAddress item = (ProjitoAddress) relatedObject;
+			item.setKerberos(getKerberos());
+			item.zSetParentContaineremployee(ProjitoEmployeeAbstract.this);
+		}
+	}
+
+	protected class AddressesAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ProjitoAddress item = (ProjitoAddress) relatedObject;
+			item.setKerberos(getKerberos());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProjitoEmployeeListAbstract extends DelegatingList<ProjitoEmployee> implements MithraDatedTransactionalList<ProjitoEmployee>
+{
+	public ProjitoEmployeeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProjitoEmployeeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProjitoEmployeeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProjitoEmployeeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProjitoEmployee[] elements()
+	{
+		ProjitoEmployee[] result = new ProjitoEmployee[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProjitoEmployeeList intersection(ProjitoEmployeeList another)
+	{
+		return (ProjitoEmployeeList)super.intersection(another);
+	}
+
+	public ProjitoEmployee getProjitoEmployeeAt(int index)
+	{
+		return (ProjitoEmployee)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.kerberos = ProjitoMembership.kerberos</pre>
+	* @see ProjitoMembership#getEmployee() reverse relationship ProjitoMembership.getEmployee()
+	* @return memberships
+	*/
+	public ProjitoMembershipList getMemberships()
+	{
+		return (ProjitoMembershipList) this.zGetDelegated().resolveRelationship(this, ProjitoEmployeeFinder.memberships());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.kerberos = ProjitoMeasureOfSuccess.accountableKerberos</pre>
+	* @see ProjitoMeasureOfSuccess#getAccountableEmployee() reverse relationship ProjitoMeasureOfSuccess.getAccountableEmployee()
+	* @return measures of success
+	*/
+	public ProjitoMeasureOfSuccessList getMeasuresOfSuccess()
+	{
+		return (ProjitoMeasureOfSuccessList) this.zGetDelegated().resolveRelationship(this, ProjitoEmployeeFinder.measuresOfSuccess());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.kerberos = ProjitoAddress.kerberos</pre>
+	* Order By: <code>id DESC</code>.
+	* @see ProjitoAddress#getEmployee() reverse relationship ProjitoAddress.getEmployee()
+	* @return addresses
+	*/
+	public ProjitoAddressList getAddresses()
+	{
+		return (ProjitoAddressList) this.zGetDelegated().resolveRelationship(this, ProjitoEmployeeFinder.addresses());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProjitoEmployeeFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoEmployeeList getNonPersistentCopy()
+	{
+		ProjitoEmployeeList result = new ProjitoEmployeeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProjitoEmployeeList asAdhoc()
+	{
+		return (ProjitoEmployeeList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ProjitoEmployee> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ProjitoEmployeeList merge(MithraTransactionalList<ProjitoEmployee> incoming, TopLevelMergeOptions<ProjitoEmployee> mergeOptions)
+	{
+		return (ProjitoEmployeeList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProjitoEmployeeList getDetachedCopy()
+	{
+		ProjitoEmployeeList result = new ProjitoEmployeeList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setKerberos(String newValue)
+	{
+		zSetString(ProjitoEmployeeFinder.kerberos(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(ProjitoEmployeeFinder.name(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoEmployeeFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoEmployeeFinder.processingDateTo(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1153 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProjitoFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Projito";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Projito";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Projito");
+	private static final ProjitoSingleFinder<Projito, Object, Projito> finder = new ProjitoSingleFinder<Projito, Object, Projito>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ProjitoFinder.ProjitoRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("bvp");
+		finderMethodMap.addNormalAttributeName("dueDate");
+		finderMethodMap.addNormalAttributeName("status");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("measuresOfSuccess");
+		finderMethodMap.addRelationshipName("memberships");
+		finderMethodMap.addRelationshipName("version");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[12];
+			result[0] = ProjitoFinder.id().constructEqualityMapper(ProjitoMeasureOfSuccessFinder.projitoId());
+			result[1] = ProjitoMeasureOfSuccessFinder.projitoId().constructEqualityMapper(ProjitoFinder.id());
+			result[2] = ProjitoFinder.processingDate().constructEqualityMapper(ProjitoMeasureOfSuccessFinder.processingDate());
+			result[3] = ProjitoMeasureOfSuccessFinder.processingDate().constructEqualityMapper(ProjitoFinder.processingDate());
+			result[4] = ProjitoFinder.id().constructEqualityMapper(ProjitoMembershipFinder.projitoId());
+			result[5] = ProjitoMembershipFinder.projitoId().constructEqualityMapper(ProjitoFinder.id());
+			result[6] = ProjitoFinder.processingDate().constructEqualityMapper(ProjitoMembershipFinder.processingDate());
+			result[7] = ProjitoMembershipFinder.processingDate().constructEqualityMapper(ProjitoFinder.processingDate());
+			result[8] = ProjitoFinder.id().constructEqualityMapper(ProjitoVersionFinder.versionedRootId());
+			result[9] = ProjitoVersionFinder.versionedRootId().constructEqualityMapper(ProjitoFinder.id());
+			result[10] = ProjitoFinder.processingDate().constructEqualityMapper(ProjitoVersionFinder.processingDate());
+			result[11] = ProjitoVersionFinder.processingDate().constructEqualityMapper(ProjitoFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Projito findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Projito findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ProjitoList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoList) finder.findMany(operation);
+	}
+
+	public static ProjitoList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoList) finder.findManyBypassCache(operation);
+	}
+
+	private static Projito findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Projito) FinderUtils.findOne(found);
+	}
+
+	public static Projito findByPrimaryKey(long id, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProjitoData _castedTargetData = (ProjitoData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getId())
+			{
+				return ProjitoFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static Projito zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Projito) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ProjitoRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Projito, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private StringAttribute<ParentOwnerType> bvp;
+		private TimestampAttribute<ParentOwnerType> dueDate;
+		private StringAttribute<ParentOwnerType> status;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ProjitoMeasuresOfSuccessFinderSubclass<ParentOwnerType> measuresOfSuccess;
+		private ProjitoMembershipsFinderSubclass<ParentOwnerType> memberships;
+		private ProjitoVersionFinderSubclass<ParentOwnerType> version;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ProjitoRelatedFinder()
+		{
+			super();
+		}
+
+		public ProjitoRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ProjitoFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ProjitoFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ProjitoFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.id();
+			attributes[1] = this.name();
+			attributes[2] = this.bvp();
+			attributes[3] = this.dueDate();
+			attributes[4] = this.status();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.measuresOfSuccess());
+				relatedFinders.add(this.memberships());
+				relatedFinders.add(this.version());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(3);
+				dependentRelatedFinders.add(this.measuresOfSuccess());
+				dependentRelatedFinders.add(this.memberships());
+				dependentRelatedFinders.add(this.version());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Projito findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoFinder.findOne(operation, false);
+		}
+
+		public Projito findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Projito> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ProjitoList((Operation) operation);
+		}
+
+		public MithraList<? extends Projito> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ProjitoList result = (ProjitoList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Projito> constructEmptyList()
+		{
+			return new ProjitoList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 487524139;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> id()
+		{
+			LongAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,4,-1,-1,true, false) :
+					new MappedLongAttribute(ProjitoFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,24,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> bvp()
+		{
+			StringAttribute<ParentOwnerType> result = this.bvp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("BVP","","bvp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,2000,true, false) :
+					new MappedStringAttribute(ProjitoFinder.bvp(), this.mapper, this.zGetValueSelector());
+				this.bvp = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> dueDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.dueDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("DUE_DATE","","dueDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoFinder.dueDate(), this.mapper, this.zGetValueSelector());
+				this.dueDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> status()
+		{
+			StringAttribute<ParentOwnerType> result = this.status;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATUS\"","","status",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,44,-1,-1,50,true, false) :
+					new MappedStringAttribute(ProjitoFinder.status(), this.mapper, this.zGetValueSelector());
+				this.status = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,ProjitoFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,36,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,ProjitoFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ProjitoFinder.processingDateInfinity,false,false,ProjitoFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ProjitoFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoMeasureOfSuccessFinder.ProjitoMeasureOfSuccessCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoMeasureOfSuccessList, Projito> measuresOfSuccess()
+		{
+			ProjitoMeasuresOfSuccessFinderSubclass<ParentOwnerType> result = this.measuresOfSuccess;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoFinder.zGetProjitoMeasuresOfSuccessReverseMapper());
+				newMapper.setToMany(true);
+				result = new ProjitoMeasuresOfSuccessFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.measuresOfSuccess = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoMembershipFinder.ProjitoMembershipCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoMembershipList, Projito> memberships()
+		{
+			ProjitoMembershipsFinderSubclass<ParentOwnerType> result = this.memberships;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoFinder.zGetProjitoMembershipsReverseMapper());
+				newMapper.setToMany(true);
+				result = new ProjitoMembershipsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.memberships = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoVersionFinder.ProjitoVersionSingleFinderForRelatedClasses<ParentOwnerType, ProjitoVersion, Projito> version()
+		{
+			ProjitoVersionFinderSubclass<ParentOwnerType> result = this.version;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoFinder.zGetProjitoVersionReverseMapper());
+				newMapper.setToMany(false);
+				result = new ProjitoVersionFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.version = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ProjitoFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ProjitoFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ProjitoCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ProjitoRelatedFinder<ParentOwnerType, ReturnType, ProjitoList, OwnerType>
+	{
+		public ProjitoCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ProjitoCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ProjitoCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ProjitoSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ProjitoRelatedFinder<ParentOwnerType, ReturnType, ProjitoList, OwnerType>
+	implements ToOneFinder
+	{
+		public ProjitoSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ProjitoSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Projito other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Projito findByPrimaryKey(long id, Timestamp processingDate)
+		{
+			Projito _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Projito) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ProjitoSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ProjitoSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper measuresOfSuccessReverseMapper = null;
+	public static Mapper zGetProjitoMeasuresOfSuccessReverseMapper()
+	{
+		if (measuresOfSuccessReverseMapper == null)
+		{
+			measuresOfSuccessReverseMapper = zConstructProjitoMeasuresOfSuccessReverseMapper();
+		}
+
+		return measuresOfSuccessReverseMapper;
+	}
+
+	private static Mapper measuresOfSuccessMapper = null;
+	public static Mapper zGetProjitoMeasuresOfSuccessMapper()
+	{
+		if (measuresOfSuccessMapper == null)
+		{
+			measuresOfSuccessMapper = zConstructProjitoMeasuresOfSuccessMapper();
+		}
+
+		return measuresOfSuccessMapper;
+	}
+
+	private static Mapper measuresOfSuccessPureReverseMapper = null;
+	public static Mapper zGetProjitoMeasuresOfSuccessPureReverseMapper()
+	{
+		if (measuresOfSuccessPureReverseMapper == null)
+		{
+			measuresOfSuccessPureReverseMapper = zConstructProjitoMeasuresOfSuccessPureReverseMapper();
+		}
+
+		return measuresOfSuccessPureReverseMapper;
+	}
+
+	private static Mapper zConstructProjitoMeasuresOfSuccessPureReverseMapper()
+	{
+		InternalList measuresOfSuccessMapperMapperList = new InternalList(2);
+		measuresOfSuccessMapperMapperList.add(ProjitoFinder.zGetConstantJoin(0));
+		measuresOfSuccessMapperMapperList.add(ProjitoFinder.zGetConstantJoin(2));
+		Mapper measuresOfSuccessMapper = new MultiEqualityMapper(measuresOfSuccessMapperMapperList);
+		measuresOfSuccessMapper.setName("measuresOfSuccess");
+		return measuresOfSuccessMapper;
+	}
+
+	private static Mapper zConstructProjitoMeasuresOfSuccessReverseMapper()
+	{
+		InternalList measuresOfSuccessMapperMapperList = new InternalList(2);
+		measuresOfSuccessMapperMapperList.add(ProjitoFinder.zGetConstantJoin(0));
+		measuresOfSuccessMapperMapperList.add(ProjitoFinder.zGetConstantJoin(2));
+		Mapper measuresOfSuccessMapper = new MultiEqualityMapper(measuresOfSuccessMapperMapperList);
+		measuresOfSuccessMapper.setName("measuresOfSuccess");
+		return measuresOfSuccessMapper;
+	}
+
+	private static Mapper zConstructProjitoMeasuresOfSuccessMapper()
+	{
+		InternalList measuresOfSuccessMapperMapperList = new InternalList(2);
+		measuresOfSuccessMapperMapperList.add(ProjitoFinder.zGetConstantJoin(1));
+		measuresOfSuccessMapperMapperList.add(ProjitoFinder.zGetConstantJoin(3));
+		Mapper measuresOfSuccessMapper = new MultiEqualityMapper(measuresOfSuccessMapperMapperList);
+		measuresOfSuccessMapper.setName("projito");
+		return measuresOfSuccessMapper;
+	}
+
+	private static Mapper membershipsReverseMapper = null;
+	public static Mapper zGetProjitoMembershipsReverseMapper()
+	{
+		if (membershipsReverseMapper == null)
+		{
+			membershipsReverseMapper = zConstructProjitoMembershipsReverseMapper();
+		}
+
+		return membershipsReverseMapper;
+	}
+
+	private static Mapper membershipsMapper = null;
+	public static Mapper zGetProjitoMembershipsMapper()
+	{
+		if (membershipsMapper == null)
+		{
+			membershipsMapper = zConstructProjitoMembershipsMapper();
+		}
+
+		return membershipsMapper;
+	}
+
+	private static Mapper membershipsPureReverseMapper = null;
+	public static Mapper zGetProjitoMembershipsPureReverseMapper()
+	{
+		if (membershipsPureReverseMapper == null)
+		{
+			membershipsPureReverseMapper = zConstructProjitoMembershipsPureReverseMapper();
+		}
+
+		return membershipsPureReverseMapper;
+	}
+
+	private static Mapper zConstructProjitoMembershipsPureReverseMapper()
+	{
+		InternalList membershipsMapperMapperList = new InternalList(2);
+		membershipsMapperMapperList.add(ProjitoFinder.zGetConstantJoin(4));
+		membershipsMapperMapperList.add(ProjitoFinder.zGetConstantJoin(6));
+		Mapper membershipsMapper = new MultiEqualityMapper(membershipsMapperMapperList);
+		membershipsMapper.setName("memberships");
+		return membershipsMapper;
+	}
+
+	private static Mapper zConstructProjitoMembershipsReverseMapper()
+	{
+		InternalList membershipsMapperMapperList = new InternalList(2);
+		membershipsMapperMapperList.add(ProjitoFinder.zGetConstantJoin(4));
+		membershipsMapperMapperList.add(ProjitoFinder.zGetConstantJoin(6));
+		Mapper membershipsMapper = new MultiEqualityMapper(membershipsMapperMapperList);
+		membershipsMapper.setName("memberships");
+		return membershipsMapper;
+	}
+
+	private static Mapper zConstructProjitoMembershipsMapper()
+	{
+		InternalList membershipsMapperMapperList = new InternalList(2);
+		membershipsMapperMapperList.add(ProjitoFinder.zGetConstantJoin(5));
+		membershipsMapperMapperList.add(ProjitoFinder.zGetConstantJoin(7));
+		Mapper membershipsMapper = new MultiEqualityMapper(membershipsMapperMapperList);
+		membershipsMapper.setName("projito");
+		return membershipsMapper;
+	}
+
+	private static Mapper versionReverseMapper = null;
+	public static Mapper zGetProjitoVersionReverseMapper()
+	{
+		if (versionReverseMapper == null)
+		{
+			versionReverseMapper = zConstructProjitoVersionReverseMapper();
+		}
+
+		return versionReverseMapper;
+	}
+
+	private static Mapper versionMapper = null;
+	public static Mapper zGetProjitoVersionMapper()
+	{
+		if (versionMapper == null)
+		{
+			versionMapper = zConstructProjitoVersionMapper();
+		}
+
+		return versionMapper;
+	}
+
+	private static Mapper versionPureReverseMapper = null;
+	public static Mapper zGetProjitoVersionPureReverseMapper()
+	{
+		if (versionPureReverseMapper == null)
+		{
+			versionPureReverseMapper = zConstructProjitoVersionPureReverseMapper();
+		}
+
+		return versionPureReverseMapper;
+	}
+
+	private static Mapper zConstructProjitoVersionPureReverseMapper()
+	{
+		InternalList versionMapperMapperList = new InternalList(2);
+		versionMapperMapperList.add(ProjitoFinder.zGetConstantJoin(8));
+		versionMapperMapperList.add(ProjitoFinder.zGetConstantJoin(10));
+		Mapper versionMapper = new MultiEqualityMapper(versionMapperMapperList);
+		versionMapper.setName("version");
+		return versionMapper;
+	}
+
+	private static Mapper zConstructProjitoVersionReverseMapper()
+	{
+		InternalList versionMapperMapperList = new InternalList(2);
+		versionMapperMapperList.add(ProjitoFinder.zGetConstantJoin(8));
+		versionMapperMapperList.add(ProjitoFinder.zGetConstantJoin(10));
+		Mapper versionMapper = new MultiEqualityMapper(versionMapperMapperList);
+		versionMapper.setName("version");
+		return versionMapper;
+	}
+
+	private static Mapper zConstructProjitoVersionMapper()
+	{
+		InternalList versionMapperMapperList = new InternalList(2);
+		versionMapperMapperList.add(ProjitoFinder.zGetConstantJoin(9));
+		versionMapperMapperList.add(ProjitoFinder.zGetConstantJoin(11));
+		Mapper versionMapper = new MultiEqualityMapper(versionMapperMapperList);
+		versionMapper.setName("versionedRoot");
+		return versionMapper;
+	}
+
+	/** maps to PROJITO.ID **/
+	public static LongAttribute<Projito> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to PROJITO."NAME" **/
+	public static StringAttribute<Projito> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to PROJITO.BVP **/
+	public static StringAttribute<Projito> bvp()
+	{
+		return finder.bvp();
+	}
+
+	/** maps to PROJITO.DUE_DATE **/
+	public static TimestampAttribute<Projito> dueDate()
+	{
+		return finder.dueDate();
+	}
+
+	/** maps to PROJITO."STATUS" **/
+	public static StringAttribute<Projito> status()
+	{
+		return finder.status();
+	}
+
+	/** maps to PROJITO.IN_Z **/
+	public static TimestampAttribute<Projito> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to PROJITO.OUT_Z **/
+	public static TimestampAttribute<Projito> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<Projito> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ProjitoMeasureOfSuccessFinder.ProjitoMeasureOfSuccessCollectionFinderForRelatedClasses<Projito, ProjitoMeasureOfSuccessList, Projito> measuresOfSuccess()
+	{
+		return finder.measuresOfSuccess();
+	}
+
+	public static class ProjitoMeasuresOfSuccessFinderSubclass<ParentOwnerType> extends ProjitoMeasureOfSuccessFinder.ProjitoMeasureOfSuccessCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoMeasureOfSuccessList, Projito>
+	{
+		public ProjitoMeasuresOfSuccessFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = ProjitoMeasureOfSuccessFinder.id().descendingOrderBy().and(ProjitoMeasureOfSuccessFinder.name().ascendingOrderBy()).and(ProjitoMeasureOfSuccessFinder.description().ascendingOrderBy());
+			this._type = SIMPLE_TO_MANY;
+			this._name = "measuresOfSuccess";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoMeasureOfSuccessFinder.projitoId(),
+				ProjitoMeasureOfSuccessFinder.processingDate()).withExtractors(
+				ProjitoFinder.id(),
+				ProjitoFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoMeasuresOfSuccessFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Projito) _obj).isMeasuresOfSuccessModifiedSinceDetachment();
+		}
+
+		protected ProjitoMeasureOfSuccessList plainValueOf(Projito _obj)
+		{
+			return _obj.getMeasuresOfSuccess();
+		}
+
+		protected ProjitoMeasureOfSuccessList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoList)_obj).getMeasuresOfSuccess();
+		}
+	}
+
+	public static ProjitoMembershipFinder.ProjitoMembershipCollectionFinderForRelatedClasses<Projito, ProjitoMembershipList, Projito> memberships()
+	{
+		return finder.memberships();
+	}
+
+	public static class ProjitoMembershipsFinderSubclass<ParentOwnerType> extends ProjitoMembershipFinder.ProjitoMembershipCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoMembershipList, Projito>
+	{
+		public ProjitoMembershipsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = ProjitoMembershipFinder.kerberos().descendingOrderBy();
+			this._type = SIMPLE_TO_MANY;
+			this._name = "memberships";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoMembershipFinder.projitoId(),
+				ProjitoMembershipFinder.processingDate()).withExtractors(
+				ProjitoFinder.id(),
+				ProjitoFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoMembershipsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Projito) _obj).isMembershipsModifiedSinceDetachment();
+		}
+
+		protected ProjitoMembershipList plainValueOf(Projito _obj)
+		{
+			return _obj.getMemberships();
+		}
+
+		protected ProjitoMembershipList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoList)_obj).getMemberships();
+		}
+	}
+
+	public static ProjitoVersionFinder.ProjitoVersionSingleFinderForRelatedClasses<Projito, ProjitoVersion, Projito> version()
+	{
+		return finder.version();
+	}
+
+	public static class ProjitoVersionFinderSubclass<ParentOwnerType> extends ProjitoVersionFinder.ProjitoVersionSingleFinderForRelatedClasses<ParentOwnerType, ProjitoVersion, Projito>
+	{
+		public ProjitoVersionFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "version";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoVersionFinder.versionedRootId(),
+				ProjitoVersionFinder.processingDate()).withExtractors(
+				ProjitoFinder.id(),
+				ProjitoFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoVersionFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Projito) _obj).isVersionModifiedSinceDetachment();
+		}
+
+		protected ProjitoVersion plainValueOf(Projito _obj)
+		{
+			return _obj.getVersion();
+		}
+
+		protected ProjitoVersionList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoList)_obj).getVersions();
+		}
+	}
+
+	public static Operation eq(Projito other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ProjitoSingleFinder<Projito, Object, Projito> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Projito");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,214 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProjitoListAbstract extends DelegatingList<Projito> implements MithraDatedTransactionalList<Projito>
+{
+	public ProjitoListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProjitoListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProjitoListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProjitoListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Projito[] elements()
+	{
+		Projito[] result = new Projito[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProjitoList intersection(ProjitoList another)
+	{
+		return (ProjitoList)super.intersection(another);
+	}
+
+	public Projito getProjitoAt(int index)
+	{
+		return (Projito)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = ProjitoMeasureOfSuccess.projitoId</pre>
+	* Order By: <code>id DESC, name asc, description</code>.
+	* @see ProjitoMeasureOfSuccess#getProjito() reverse relationship ProjitoMeasureOfSuccess.getProjito()
+	* @return measures of success
+	*/
+	public ProjitoMeasureOfSuccessList getMeasuresOfSuccess()
+	{
+		return (ProjitoMeasureOfSuccessList) this.zGetDelegated().resolveRelationship(this, ProjitoFinder.measuresOfSuccess());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = ProjitoMembership.projitoId</pre>
+	* Order By: <code>kerberos DESC</code>.
+	* @see ProjitoMembership#getProjito() reverse relationship ProjitoMembership.getProjito()
+	* @return memberships
+	*/
+	public ProjitoMembershipList getMemberships()
+	{
+		return (ProjitoMembershipList) this.zGetDelegated().resolveRelationship(this, ProjitoFinder.memberships());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProjitoVersion.versionedRootId = this.id</pre>
+	* @see ProjitoVersion#getVersionedRoot() reverse relationship ProjitoVersion.getVersionedRoot()
+	* @return The version
+	*/
+	public ProjitoVersionList getVersions()
+	{
+		return (ProjitoVersionList) this.zGetDelegated().resolveRelationship(this, ProjitoFinder.version());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProjitoFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoList getNonPersistentCopy()
+	{
+		ProjitoList result = new ProjitoList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProjitoList asAdhoc()
+	{
+		return (ProjitoList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Projito> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ProjitoList merge(MithraTransactionalList<Projito> incoming, TopLevelMergeOptions<Projito> mergeOptions)
+	{
+		return (ProjitoList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProjitoList getDetachedCopy()
+	{
+		ProjitoList result = new ProjitoList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)ProjitoFinder.id(), false, "projito", "com.gs.fw.common.mithra.test.domain.ProjitoSimulatedSequenceFactory", null);
+	}
+
+	public void setId(long newValue)
+	{
+		zSetLong(ProjitoFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(ProjitoFinder.name(), newValue);
+	}
+
+	public void setBvp(String newValue)
+	{
+		zSetString(ProjitoFinder.bvp(), newValue);
+	}
+
+	public void setDueDate(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoFinder.dueDate(), newValue);
+	}
+
+	public void setStatus(String newValue)
+	{
+		zSetString(ProjitoFinder.status(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoFinder.processingDateTo(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1078 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ProjitoMeasureOfSuccessData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 48;
+	boolean isAccountableKerberosNull();
+	String getAccountableKerberos();
+	void setAccountableKerberos(String value);
+	void setAccountableKerberosNull();
+	int zGetAccountableKerberosAsInt();
+	boolean isDescriptionNull();
+	String getDescription();
+	void setDescription(String value);
+	void setDescriptionNull();
+	int zGetDescriptionAsInt();
+	boolean isIdNull();
+	long getId();
+	void setId(long value);
+	void setIdNull();
+	boolean isNameNull();
+	String getName();
+	void setName(String value);
+	void setNameNull();
+	int zGetNameAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isProjitoIdNull();
+	long getProjitoId();
+	void setProjitoId(long value);
+	void setProjitoIdNull();
+	boolean zGetIsIdSet();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getProjito();
+	void setProjito(Object related);
+	Object getAccountableEmployee();
+	void setAccountableEmployee(Object related);
+	public class ProjitoMeasureOfSuccessDataOnHeap implements ProjitoMeasureOfSuccessData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private String accountableKerberos;
+		private String description;
+		private long id;
+		private String name;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private long projitoId;
+		public boolean isAccountableKerberosNull()
+		{
+			return this.getAccountableKerberos() == null;
+		}
+
+		public boolean isDescriptionNull()
+		{
+			return this.getDescription() == null;
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isNameNull()
+		{
+			return this.getName() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isProjitoIdNull()
+		{
+			return false;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.accountableKerberos);
+			out.writeObject(this.description);
+			out.writeLong(this.id);
+			out.writeBoolean(_isIdSet);
+			out.writeObject(this.name);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, ProjitoMeasureOfSuccessFinder.processingDate().getInfinityDate());
+			out.writeLong(this.projitoId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getAccountableKerberos()
+		{
+			return this.accountableKerberos;
+		}
+
+		public int zGetAccountableKerberosAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountableKerberos);
+		}
+
+		public void setAccountableKerberos(String value)
+		{
+			this.accountableKerberos = StringPool.getInstance().getOrAddToCache(value, ProjitoMeasureOfSuccessFinder.isFullCache());
+		}
+
+		public void setAccountableKerberosNull()
+		{
+			this.setAccountableKerberos(null);
+		}
+
+		public String getDescription()
+		{
+			return this.description;
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+		}
+
+		public void setDescription(String value)
+		{
+			this.description = StringPool.getInstance().getOrAddToCache(value, ProjitoMeasureOfSuccessFinder.isFullCache());
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public long getId()
+		{
+			return this.id;
+		}
+
+		public void setId(long value)
+		{
+			this.id = value;
+			_isIdSet = true;
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getName()
+		{
+			return this.name;
+		}
+
+		public int zGetNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+		}
+
+		public void setName(String value)
+		{
+			this.name = StringPool.getInstance().getOrAddToCache(value, ProjitoMeasureOfSuccessFinder.isFullCache());
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, ProjitoMeasureOfSuccessFinder.isFullCache(), ProjitoMeasureOfSuccessFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, ProjitoMeasureOfSuccessFinder.isFullCache(), ProjitoMeasureOfSuccessFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getProjitoId()
+		{
+			return this.projitoId;
+		}
+
+		public void setProjitoId(long value)
+		{
+			this.projitoId = value;
+		}
+
+		public void setProjitoIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public boolean _isIdSet;
+		public boolean zGetIsIdSet()
+		{
+			return _isIdSet;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(ProjitoMeasureOfSuccessDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountableKerberos = this.accountableKerberos;
+			copy.description = this.description;
+			copy.id = this.id;
+			copy.name = this.name;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.projitoId = this.projitoId;
+			copy._isIdSet = this._isIdSet;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[2];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.accountableKerberos = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoMeasureOfSuccessFinder.isFullCache());
+			this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoMeasureOfSuccessFinder.isFullCache());
+			this.id = in.readLong();
+			_isIdSet = in.readBoolean();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProjitoMeasureOfSuccessFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), ProjitoMeasureOfSuccessFinder.isFullCache(), ProjitoMeasureOfSuccessFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, ProjitoMeasureOfSuccessFinder.processingDate().getInfinityDate()), ProjitoMeasureOfSuccessFinder.isFullCache(), ProjitoMeasureOfSuccessFinder.isOffHeap());
+			this.projitoId = in.readLong();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final ProjitoMeasureOfSuccessData otherData = (ProjitoMeasureOfSuccessData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeLong(this.id);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, ProjitoMeasureOfSuccessFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.id = in.readLong();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), ProjitoMeasureOfSuccessFinder.isFullCache(), ProjitoMeasureOfSuccessFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, ProjitoMeasureOfSuccessFinder.processingDate().getInfinityDate()), ProjitoMeasureOfSuccessFinder.isFullCache(), ProjitoMeasureOfSuccessFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getProjito()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setProjito(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getAccountableEmployee()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setAccountableEmployee(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			ProjitoMeasureOfSuccessDataOffHeap data = new ProjitoMeasureOfSuccessDataOffHeap();
+			data.setAccountableKerberos(this.getAccountableKerberos());
+			data.setDescription(this.getDescription());
+			data.setId(this.getId());
+			data.setName(this.getName());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setProjitoId(this.getProjitoId());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ProjitoMeasureOfSuccessData projitoMeasureOfSuccessData = (ProjitoMeasureOfSuccessData) newData;
+			this.setAccountableKerberos(projitoMeasureOfSuccessData.getAccountableKerberos());
+			this.setDescription(projitoMeasureOfSuccessData.getDescription());
+			this.setName(projitoMeasureOfSuccessData.getName());
+			this.setProcessingDateFrom(projitoMeasureOfSuccessData.getProcessingDateFrom());
+			this.setProcessingDateTo(projitoMeasureOfSuccessData.getProcessingDateTo());
+			this.setProjitoId(projitoMeasureOfSuccessData.getProjitoId());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ProjitoMeasureOfSuccessData other = (ProjitoMeasureOfSuccessData) newData;
+			if (!isAccountableKerberosNull() ? !getAccountableKerberos().equals(other.getAccountableKerberos()) : !other.isAccountableKerberosNull())
+			{
+				return true;
+			}
+
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if ( getProjitoId() != other.getProjitoId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ProjitoMeasureOfSuccessDataOnHeap copy = new ProjitoMeasureOfSuccessDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ProjitoMeasureOfSuccessDataOnHeap copy = new ProjitoMeasureOfSuccessDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ProjitoMeasureOfSuccessData otherData = (ProjitoMeasureOfSuccessData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ProjitoMeasureOfSuccessData otherData = (ProjitoMeasureOfSuccessData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoMeasureOfSuccessData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ProjitoMeasureOfSuccessFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ProjitoMeasureOfSuccessFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoMeasureOfSuccessData";
+		}
+	}
+
+	public class ProjitoMeasureOfSuccessDataOffHeap extends MithraOffHeapDataObject implements ProjitoMeasureOfSuccessData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public ProjitoMeasureOfSuccessDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 32);
+		}
+
+		public ProjitoMeasureOfSuccessDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccountableKerberosNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isDescriptionNull()
+		{
+			return zIsStringNull(_storage, 16);
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isNameNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isProjitoIdNull()
+		{
+			return false;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAccountableKerberos());
+			out.writeObject(this.getDescription());
+			out.writeLong(this.getId());
+			out.writeBoolean(true);
+			out.writeObject(this.getName());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ProjitoMeasureOfSuccessFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getProjitoId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getAccountableKerberos()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetAccountableKerberosAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setAccountableKerberos(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setAccountableKerberosNull()
+		{
+			this.setAccountableKerberos(null);
+		}
+
+		public String getDescription()
+		{
+			return zGetString(_storage, 16);
+		}
+
+		public int zGetDescriptionAsInt()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setDescription(String value)
+		{
+			zSetString(_storage, value, 16);
+		}
+
+		public void setDescriptionNull()
+		{
+			this.setDescription(null);
+		}
+
+		public long getId()
+		{
+			return zGetLong(_storage, 4);
+		}
+
+		public void setId(long value)
+		{
+			zSetLong(_storage, value, 4, -1, -1);
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getName()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetNameAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setName(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getProjitoId()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProjitoId(long value)
+		{
+			zSetLong(_storage, value, 40, -1, -1);
+		}
+
+		public void setProjitoIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public boolean zGetIsIdSet()
+		{
+			return true;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(ProjitoMeasureOfSuccessDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountableKerberos = this.getAccountableKerberos();
+			copy.description = this.getDescription();
+			copy.id = this.getId();
+			copy.name = this.getName();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.projitoId = this.getProjitoId();
+			copy._isIdSet = true;
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 16);
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			in.readBoolean();
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetLong(_storage, in.readLong(), 40, -1, -1, false);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof ProjitoMeasureOfSuccessDataOffHeap)
+			{
+				final ProjitoMeasureOfSuccessDataOffHeap otherData = (ProjitoMeasureOfSuccessDataOffHeap) other;
+				if (this.zGetLong(_storage, 4) != otherData.zGetLong(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final ProjitoMeasureOfSuccessData otherData = (ProjitoMeasureOfSuccessData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeLong(this.getId());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ProjitoMeasureOfSuccessFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getProjito()
+		{
+			return null;
+		}
+
+		public void setProjito(Object related)
+		{
+		}
+
+		public Object getAccountableEmployee()
+		{
+			return null;
+		}
+
+		public void setAccountableEmployee(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ProjitoMeasureOfSuccessData projitoMeasureOfSuccessData = (ProjitoMeasureOfSuccessData) newData;
+			this.setAccountableKerberos(projitoMeasureOfSuccessData.getAccountableKerberos());
+			this.setDescription(projitoMeasureOfSuccessData.getDescription());
+			this.setName(projitoMeasureOfSuccessData.getName());
+			this.setProcessingDateFrom(projitoMeasureOfSuccessData.getProcessingDateFrom());
+			this.setProcessingDateTo(projitoMeasureOfSuccessData.getProcessingDateTo());
+			this.setProjitoId(projitoMeasureOfSuccessData.getProjitoId());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ProjitoMeasureOfSuccessData other = (ProjitoMeasureOfSuccessData) newData;
+			if (!isAccountableKerberosNull() ? !getAccountableKerberos().equals(other.getAccountableKerberos()) : !other.isAccountableKerberosNull())
+			{
+				return true;
+			}
+
+			if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if ( getProjitoId() != other.getProjitoId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ProjitoMeasureOfSuccessDataOnHeap copy = new ProjitoMeasureOfSuccessDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ProjitoMeasureOfSuccessDataOnHeap copy = new ProjitoMeasureOfSuccessDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ProjitoMeasureOfSuccessData otherData = (ProjitoMeasureOfSuccessData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ProjitoMeasureOfSuccessData otherData = (ProjitoMeasureOfSuccessData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoMeasureOfSuccessData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ProjitoMeasureOfSuccessFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ProjitoMeasureOfSuccessFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoMeasureOfSuccessData";
+		}
+	}
+}
@@ -0,0 +1,878 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProjitoMeasureOfSuccessFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ProjitoMeasureOfSuccess";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ProjitoMeasureOfSuccess";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProjitoMeasureOfSuccess");
+	private static final ProjitoMeasureOfSuccessSingleFinder<ProjitoMeasureOfSuccess, Object, ProjitoMeasureOfSuccess> finder = new ProjitoMeasureOfSuccessSingleFinder<ProjitoMeasureOfSuccess, Object, ProjitoMeasureOfSuccess>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ProjitoMeasureOfSuccessFinder.ProjitoMeasureOfSuccessRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("projitoId");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("accountableKerberos");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("projito");
+		finderMethodMap.addRelationshipName("accountableEmployee");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ProjitoMeasureOfSuccess findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ProjitoMeasureOfSuccess findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ProjitoMeasureOfSuccessList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoMeasureOfSuccessList) finder.findMany(operation);
+	}
+
+	public static ProjitoMeasureOfSuccessList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoMeasureOfSuccessList) finder.findManyBypassCache(operation);
+	}
+
+	private static ProjitoMeasureOfSuccess findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ProjitoMeasureOfSuccess) FinderUtils.findOne(found);
+	}
+
+	public static ProjitoMeasureOfSuccess findByPrimaryKey(long id, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProjitoMeasureOfSuccessData _castedTargetData = (ProjitoMeasureOfSuccessData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getId())
+			{
+				return ProjitoMeasureOfSuccessFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static ProjitoMeasureOfSuccess zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ProjitoMeasureOfSuccess) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ProjitoMeasureOfSuccessRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ProjitoMeasureOfSuccess, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> id;
+		private LongAttribute<ParentOwnerType> projitoId;
+		private StringAttribute<ParentOwnerType> name;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> accountableKerberos;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ProjitoMeasureOfSuccessProjitoFinderSubclass<ParentOwnerType> projito;
+		private ProjitoMeasureOfSuccessAccountableEmployeeFinderSubclass<ParentOwnerType> accountableEmployee;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ProjitoMeasureOfSuccessRelatedFinder()
+		{
+			super();
+		}
+
+		public ProjitoMeasureOfSuccessRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoMeasureOfSuccessFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ProjitoMeasureOfSuccessFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ProjitoMeasureOfSuccessFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ProjitoMeasureOfSuccessFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.id();
+			attributes[1] = this.projitoId();
+			attributes[2] = this.name();
+			attributes[3] = this.description();
+			attributes[4] = this.accountableKerberos();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.projito());
+				relatedFinders.add(this.accountableEmployee());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ProjitoMeasureOfSuccess findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoMeasureOfSuccessFinder.findOne(operation, false);
+		}
+
+		public ProjitoMeasureOfSuccess findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoMeasureOfSuccessFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ProjitoMeasureOfSuccess> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ProjitoMeasureOfSuccessList((Operation) operation);
+		}
+
+		public MithraList<? extends ProjitoMeasureOfSuccess> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ProjitoMeasureOfSuccessList result = (ProjitoMeasureOfSuccessList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ProjitoMeasureOfSuccess> constructEmptyList()
+		{
+			return new ProjitoMeasureOfSuccessList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1145073136;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> id()
+		{
+			LongAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,4,-1,-1,true, false) :
+					new MappedLongAttribute(ProjitoMeasureOfSuccessFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> projitoId()
+		{
+			LongAttribute<ParentOwnerType> result = this.projitoId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("PROJITO_ID","","projitoId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,40,-1,-1,false, false) :
+					new MappedLongAttribute(ProjitoMeasureOfSuccessFinder.projitoId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("projito");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Projito", "measuresOfSuccess");
+				this.projitoId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,20,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoMeasureOfSuccessFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,16,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoMeasureOfSuccessFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountableKerberos()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountableKerberos;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCOUNTABLE_KERBEROS","","accountableKerberos",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoMeasureOfSuccessFinder.accountableKerberos(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("accountableEmployee");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ProjitoEmployee", "measuresOfSuccess");
+				this.accountableKerberos = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,ProjitoMeasureOfSuccessFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoMeasureOfSuccessFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,ProjitoMeasureOfSuccessFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoMeasureOfSuccessFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ProjitoMeasureOfSuccessFinder.processingDateInfinity,false,false,ProjitoMeasureOfSuccessFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ProjitoMeasureOfSuccessFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoFinder.ProjitoSingleFinderForRelatedClasses<ParentOwnerType, Projito, ProjitoMeasureOfSuccess> projito()
+		{
+			ProjitoMeasureOfSuccessProjitoFinderSubclass<ParentOwnerType> result = this.projito;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoFinder.zGetProjitoMeasuresOfSuccessMapper());
+				newMapper.setToMany(false);
+				result = new ProjitoMeasureOfSuccessProjitoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.projito = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoEmployeeFinder.ProjitoEmployeeSingleFinderForRelatedClasses<ParentOwnerType, ProjitoEmployee, ProjitoMeasureOfSuccess> accountableEmployee()
+		{
+			ProjitoMeasureOfSuccessAccountableEmployeeFinderSubclass<ParentOwnerType> result = this.accountableEmployee;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoEmployeeFinder.zGetProjitoEmployeeMeasuresOfSuccessMapper());
+				newMapper.setToMany(false);
+				result = new ProjitoMeasureOfSuccessAccountableEmployeeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.accountableEmployee = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ProjitoMeasureOfSuccessFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ProjitoMeasureOfSuccessFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ProjitoMeasureOfSuccessCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ProjitoMeasureOfSuccessRelatedFinder<ParentOwnerType, ReturnType, ProjitoMeasureOfSuccessList, OwnerType>
+	{
+		public ProjitoMeasureOfSuccessCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ProjitoMeasureOfSuccessCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ProjitoMeasureOfSuccessCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoMeasureOfSuccessCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ProjitoMeasureOfSuccessSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ProjitoMeasureOfSuccessRelatedFinder<ParentOwnerType, ReturnType, ProjitoMeasureOfSuccessList, OwnerType>
+	implements ToOneFinder
+	{
+		public ProjitoMeasureOfSuccessSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ProjitoMeasureOfSuccessSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ProjitoMeasureOfSuccess other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ProjitoMeasureOfSuccess findByPrimaryKey(long id, Timestamp processingDate)
+		{
+			ProjitoMeasureOfSuccess _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ProjitoMeasureOfSuccess) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ProjitoMeasureOfSuccessSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ProjitoMeasureOfSuccessSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoMeasureOfSuccessSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to PROJITO_MEASURE_OF_SUCCESS.ID **/
+	public static LongAttribute<ProjitoMeasureOfSuccess> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to PROJITO_MEASURE_OF_SUCCESS.PROJITO_ID **/
+	public static LongAttribute<ProjitoMeasureOfSuccess> projitoId()
+	{
+		return finder.projitoId();
+	}
+
+	/** maps to PROJITO_MEASURE_OF_SUCCESS."NAME" **/
+	public static StringAttribute<ProjitoMeasureOfSuccess> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to PROJITO_MEASURE_OF_SUCCESS.DESCRIPTION **/
+	public static StringAttribute<ProjitoMeasureOfSuccess> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to PROJITO_MEASURE_OF_SUCCESS.ACCOUNTABLE_KERBEROS **/
+	public static StringAttribute<ProjitoMeasureOfSuccess> accountableKerberos()
+	{
+		return finder.accountableKerberos();
+	}
+
+	/** maps to PROJITO_MEASURE_OF_SUCCESS.IN_Z **/
+	public static TimestampAttribute<ProjitoMeasureOfSuccess> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to PROJITO_MEASURE_OF_SUCCESS.OUT_Z **/
+	public static TimestampAttribute<ProjitoMeasureOfSuccess> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ProjitoMeasureOfSuccess> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ProjitoFinder.ProjitoSingleFinderForRelatedClasses<ProjitoMeasureOfSuccess, Projito, ProjitoMeasureOfSuccess> projito()
+	{
+		return finder.projito();
+	}
+
+	public static class ProjitoMeasureOfSuccessProjitoFinderSubclass<ParentOwnerType> extends ProjitoFinder.ProjitoSingleFinderForRelatedClasses<ParentOwnerType, Projito, ProjitoMeasureOfSuccess>
+	{
+		public ProjitoMeasureOfSuccessProjitoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "projito";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoFinder.id(),
+				ProjitoFinder.processingDate()).withExtractors(
+				ProjitoMeasureOfSuccessFinder.projitoId(),
+				ProjitoMeasureOfSuccessFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoMeasureOfSuccessProjitoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Projito plainValueOf(ProjitoMeasureOfSuccess _obj)
+		{
+			return _obj.getProjito();
+		}
+
+		protected ProjitoList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoMeasureOfSuccessList)_obj).getProjitos();
+		}
+	}
+
+	public static ProjitoEmployeeFinder.ProjitoEmployeeSingleFinderForRelatedClasses<ProjitoMeasureOfSuccess, ProjitoEmployee, ProjitoMeasureOfSuccess> accountableEmployee()
+	{
+		return finder.accountableEmployee();
+	}
+
+	public static class ProjitoMeasureOfSuccessAccountableEmployeeFinderSubclass<ParentOwnerType> extends ProjitoEmployeeFinder.ProjitoEmployeeSingleFinderForRelatedClasses<ParentOwnerType, ProjitoEmployee, ProjitoMeasureOfSuccess>
+	{
+		public ProjitoMeasureOfSuccessAccountableEmployeeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "accountableEmployee";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoEmployeeFinder.kerberos(),
+				ProjitoEmployeeFinder.processingDate()).withExtractors(
+				ProjitoMeasureOfSuccessFinder.accountableKerberos(),
+				ProjitoMeasureOfSuccessFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoMeasureOfSuccessAccountableEmployeeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProjitoEmployee plainValueOf(ProjitoMeasureOfSuccess _obj)
+		{
+			return _obj.getAccountableEmployee();
+		}
+
+		protected ProjitoEmployeeList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoMeasureOfSuccessList)_obj).getAccountableEmployees();
+		}
+	}
+
+	public static Operation eq(ProjitoMeasureOfSuccess other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ProjitoMeasureOfSuccessSingleFinder<ProjitoMeasureOfSuccess, Object, ProjitoMeasureOfSuccess> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			projitoId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			accountableKerberos()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProjitoMeasureOfSuccess");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,206 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProjitoMeasureOfSuccessListAbstract extends DelegatingList<ProjitoMeasureOfSuccess> implements MithraDatedTransactionalList<ProjitoMeasureOfSuccess>
+{
+	public ProjitoMeasureOfSuccessListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProjitoMeasureOfSuccessListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProjitoMeasureOfSuccessListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProjitoMeasureOfSuccessListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProjitoMeasureOfSuccess[] elements()
+	{
+		ProjitoMeasureOfSuccess[] result = new ProjitoMeasureOfSuccess[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProjitoMeasureOfSuccessList intersection(ProjitoMeasureOfSuccessList another)
+	{
+		return (ProjitoMeasureOfSuccessList)super.intersection(another);
+	}
+
+	public ProjitoMeasureOfSuccess getProjitoMeasureOfSuccessAt(int index)
+	{
+		return (ProjitoMeasureOfSuccess)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Projito.id = this.projitoId</pre>
+	* @see Projito#getMeasuresOfSuccess() reverse relationship Projito.getMeasuresOfSuccess()
+	* @return The projito
+	*/
+	public ProjitoList getProjitos()
+	{
+		return (ProjitoList) this.zGetDelegated().resolveRelationship(this, ProjitoMeasureOfSuccessFinder.projito());
+	}
+
+	public void zSetParentContainerprojito(ProjitoAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ProjitoMeasureOfSuccess item = this.getProjitoMeasureOfSuccessAt(i);
+			item.zSetParentContainerprojito(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProjitoEmployee.kerberos = this.accountableKerberos</pre>
+	* @see ProjitoEmployee#getMeasuresOfSuccess() reverse relationship ProjitoEmployee.getMeasuresOfSuccess()
+	* @return The accountable employee
+	*/
+	public ProjitoEmployeeList getAccountableEmployees()
+	{
+		return (ProjitoEmployeeList) this.zGetDelegated().resolveRelationship(this, ProjitoMeasureOfSuccessFinder.accountableEmployee());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProjitoMeasureOfSuccessFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoMeasureOfSuccessList getNonPersistentCopy()
+	{
+		ProjitoMeasureOfSuccessList result = new ProjitoMeasureOfSuccessList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProjitoMeasureOfSuccessList asAdhoc()
+	{
+		return (ProjitoMeasureOfSuccessList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ProjitoMeasureOfSuccess> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ProjitoMeasureOfSuccessList merge(MithraTransactionalList<ProjitoMeasureOfSuccess> incoming, TopLevelMergeOptions<ProjitoMeasureOfSuccess> mergeOptions)
+	{
+		return (ProjitoMeasureOfSuccessList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProjitoMeasureOfSuccessList getDetachedCopy()
+	{
+		ProjitoMeasureOfSuccessList result = new ProjitoMeasureOfSuccessList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)ProjitoMeasureOfSuccessFinder.id(), false, "projitoMeasureOfSuccess", "com.gs.fw.common.mithra.test.domain.ProjitoSimulatedSequenceFactory", null);
+	}
+
+	public void setId(long newValue)
+	{
+		zSetLong(ProjitoMeasureOfSuccessFinder.id(), newValue);
+	}
+
+	public void setProjitoId(long newValue)
+	{
+		zSetLong(ProjitoMeasureOfSuccessFinder.projitoId(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(ProjitoMeasureOfSuccessFinder.name(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(ProjitoMeasureOfSuccessFinder.description(), newValue);
+	}
+
+	public void setAccountableKerberos(String newValue)
+	{
+		zSetString(ProjitoMeasureOfSuccessFinder.accountableKerberos(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoMeasureOfSuccessFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoMeasureOfSuccessFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,809 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ProjitoMembershipAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ProjitoMembershipFinder.processingDate()
+	, ProjitoMembershipFinder.zGetDoubleAttributes(),ProjitoMembershipFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ProjitoMembership.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forprojito = new ProjitoRhs();
+	private static final RelationshipHashStrategy foremployee = new EmployeeRhs();
+	private static final class ProjitoRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = ProjitoFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ProjitoMembership _castedSrcObject = (ProjitoMembership) _srcObject;
+			ProjitoMembershipData _castedSrcData = (ProjitoMembershipData) _srcData;
+			ProjitoData _castedTargetData = (ProjitoData) _targetData;
+			if (_castedSrcData.getProjitoId() == _castedTargetData.getId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProjitoMembershipData _castedSrcData = (ProjitoMembershipData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProjitoId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class EmployeeRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = ProjitoEmployeeFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ProjitoMembership _castedSrcObject = (ProjitoMembership) _srcObject;
+			ProjitoMembershipData _castedSrcData = (ProjitoMembershipData) _srcData;
+			ProjitoEmployeeData _castedTargetData = (ProjitoEmployeeData) _targetData;
+			if (!_castedSrcData.isKerberosNull() && _castedSrcData.getKerberos().equals(_castedTargetData.getKerberos()))
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProjitoMembershipData _castedSrcData = (ProjitoMembershipData) _srcData;
+			return HashUtil.hash(_castedSrcData.getKerberos());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProjitoMembershipData _castedSrcData = (ProjitoMembershipData) _srcData;
+			return HashUtil.offHeapHash(_castedSrcData.zGetKerberosAsInt());
+		}
+	}
+
+	public ProjitoMembershipAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ProjitoMembershipFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ProjitoMembershipData zSynchronizedGetData()
+	{
+		return (ProjitoMembershipData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ProjitoMembershipFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		if (behavior.isPersisted()) return;
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	public void insertForRecovery() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertForRecovery(this);
+	}
+
+	public void insertWithIncrement() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrement(this);
+	}
+
+	public void insertWithIncrementUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrementUntil(this, exclusiveUntil);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		if (_behavior.isPersisted()) return;
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public ProjitoMembership zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		if (_behavior.isPersisted()) return (ProjitoMembership) this;
+		this.checkAndGeneratePrimaryKeys();
+		ProjitoMembership original = (ProjitoMembership) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ProjitoMembershipFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ProjitoMembership getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoMembershipAbstract result = (ProjitoMembershipAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ProjitoMembership ) result;
+	}
+
+	public ProjitoMembership zFindOriginal()
+	{
+		ProjitoMembershipData data = (ProjitoMembershipData) this.currentData;
+		Operation op;
+		op = ProjitoMembershipFinder.id().eq(data.getId());
+		op = op.and(ProjitoMembershipFinder.processingDate().eq(this.getProcessingDate()));
+		return ProjitoMembershipFinder.findOne(op);
+	}
+
+	public ProjitoMembership getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoMembershipAbstract result = (ProjitoMembershipAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ProjitoMembership ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ProjitoMembership copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		if (behavior.isPersisted()) return (ProjitoMembership) this;
+		return (ProjitoMembership) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ProjitoMembership copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ProjitoMembership) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ProjitoMembershipData data = (ProjitoMembershipData) this.currentData;
+			Operation op = ProjitoMembershipFinder.processingDate().eq(this.processingDate);
+			op = op.and(ProjitoMembershipFinder.id().eq(data.getId()));
+			return ProjitoMembershipFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isKerberosNull()
+	{
+		return this.zSynchronizedGetData().isKerberosNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProjitoIdNull()
+	{
+		return this.zSynchronizedGetData().isProjitoIdNull();
+	}
+
+	public long getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(long newValue)
+	{
+		zSetLong(ProjitoMembershipFinder.id(), newValue, true ,false);
+	}
+
+	public String getKerberos()
+	{
+		return this.zSynchronizedGetData().getKerberos();
+	}
+
+	public void setKerberos(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'kerberos' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoMembershipFinder.kerberos(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoMembershipFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoMembershipFinder.processingDateTo(), newValue, false );
+	}
+
+	public long getProjitoId()
+	{
+		return this.zSynchronizedGetData().getProjitoId();
+	}
+
+	public void setProjitoId(long newValue)
+	{
+		zSetLong(ProjitoMembershipFinder.projitoId(), newValue, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProjitoMembershipData _newData = (ProjitoMembershipData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ProjitoMembershipData _newData = (ProjitoMembershipData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ProjitoMembershipData _newData = (ProjitoMembershipData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Projito.id = this.projitoId</pre>
+	* @see Projito#getMemberships() reverse relationship Projito.getMemberships()
+	* @return The projito
+	*/
+	public Projito getProjito()
+	{
+		Projito _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoMembershipData _data = (ProjitoMembershipData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ProjitoFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forprojito,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (Projito) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoMembershipFinder.projito().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getProjito() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (Projito) _data.getProjito();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoMembershipFinder.projito().zGetRelationshipMultiExtractor(), this);
+					_result = ProjitoFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoMembershipData) _behavior.getCurrentDataForWrite(this);
+				_data.setProjito(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Projito) _data.getProjito();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoMembershipFinder.projito().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProjitoFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProjito(Projito projito)
+	{
+		Projito _projito = (Projito) projito;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoMembershipData _data = (ProjitoMembershipData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getProjito();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((Projito)_prev).getMemberships()).zMarkMoved( (ProjitoMembership) this);
+			}
+
+			_data.setProjito(_projito);
+			_projito.getMemberships().add((ProjitoMembership) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_projito == null)
+			{
+				this.setProjitoId(0);
+			}
+			else
+			{
+				this.setProjitoId(
+					_projito.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerprojito(ProjitoAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoMembershipData _data = (ProjitoMembershipData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProjito(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProjitoEmployee.kerberos = this.kerberos</pre>
+	* @see ProjitoEmployee#getMemberships() reverse relationship ProjitoEmployee.getMemberships()
+	* @return The employee
+	*/
+	public ProjitoEmployee getEmployee()
+	{
+		ProjitoEmployee _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoMembershipData _data = (ProjitoMembershipData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isKerberosNull())
+			{
+				_portal = ProjitoEmployeeFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, foremployee,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (ProjitoEmployee) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoMembershipFinder.employee().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getEmployee() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ProjitoEmployee) _data.getEmployee();
+			if (_result == null)
+			{
+				if (!_data.isKerberosNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoMembershipFinder.employee().zGetRelationshipMultiExtractor(), this);
+					_result = ProjitoEmployeeFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoMembershipData) _behavior.getCurrentDataForWrite(this);
+				_data.setEmployee(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProjitoEmployee) _data.getEmployee();
+			if (_result == null)
+			{
+				if (!_data.isKerberosNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoMembershipFinder.employee().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProjitoEmployeeFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setEmployee(ProjitoEmployee employee)
+	{
+		ProjitoEmployee _employee = (ProjitoEmployee) employee;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoMembershipData _data = (ProjitoMembershipData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getEmployee();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((ProjitoEmployee)_prev).getMemberships()).zMarkMoved( (ProjitoMembership) this);
+			}
+
+			_data.setEmployee(_employee);
+			_employee.getMemberships().add((ProjitoMembership) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_employee == null)
+			{
+				this.setKerberos(null);
+			}
+			else
+			{
+				this.setKerberos(
+					_employee.getKerberos());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContaineremployee(ProjitoEmployeeAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoMembershipData _data = (ProjitoMembershipData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setEmployee(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return ProjitoMembershipFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProjitoMembershipData.ProjitoMembershipDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ProjitoMembershipData data = (ProjitoMembershipData) ProjitoMembershipFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ProjitoMembership has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromProjitoMembershipData( ProjitoMembershipData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromProjitoMembershipData( ProjitoMembershipData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ProjitoMembershipFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProjitoMembershipFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoMembership getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ProjitoMembershipAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ProjitoMembershipAbstract from = (ProjitoMembershipAbstract) f;
+		ProjitoMembershipData newData = from.zSynchronizedGetData();
+		this.setKerberos(newData.getKerberos());
+		this.setProjitoId(newData.getProjitoId());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ProjitoMembershipData newData = (ProjitoMembershipData) d;
+		ProjitoMembershipData data = (ProjitoMembershipData) nd;
+		if (ProjitoMembershipFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, ProjitoMembershipFinder.id(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoMembershipFinder.kerberos(), false);
+		changed |= zUpdateLong(behavior, data, newData, ProjitoMembershipFinder.projitoId(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ProjitoMembershipData data = ((ProjitoMembershipData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ProjitoMembershipData data = ((ProjitoMembershipData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ProjitoMembershipData data = ((ProjitoMembershipData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public long generateAndSetId()
+	{
+		long nextValue =(long) this.generateId();
+		this.setId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsIdSet()
+	{
+		ProjitoMembershipData data = this.zSynchronizedGetData();
+		return data.zGetIsIdSet();
+	}
+
+	protected long generateId()
+	{
+		Object sourceAttribute = null;
+		ProjitoMembershipFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("projitoMembership", "com.gs.fw.common.mithra.test.domain.ProjitoSimulatedSequenceFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		ProjitoMembershipData data = (ProjitoMembershipData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsIdSet())
+		{
+			long newValue = this.generateId();
+			data.setId(newValue);
+		}
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity()), ProjitoMembershipFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ProjitoMembershipData localData = (ProjitoMembershipData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
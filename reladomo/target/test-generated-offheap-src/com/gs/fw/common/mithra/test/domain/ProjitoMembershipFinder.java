@@ -0,0 +1,834 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProjitoMembershipFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ProjitoMembership";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ProjitoMembership";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProjitoMembership");
+	private static final ProjitoMembershipSingleFinder<ProjitoMembership, Object, ProjitoMembership> finder = new ProjitoMembershipSingleFinder<ProjitoMembership, Object, ProjitoMembership>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ProjitoMembershipFinder.ProjitoMembershipRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("kerberos");
+		finderMethodMap.addNormalAttributeName("projitoId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("projito");
+		finderMethodMap.addRelationshipName("employee");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ProjitoMembership findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ProjitoMembership findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ProjitoMembershipList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoMembershipList) finder.findMany(operation);
+	}
+
+	public static ProjitoMembershipList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoMembershipList) finder.findManyBypassCache(operation);
+	}
+
+	private static ProjitoMembership findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ProjitoMembership) FinderUtils.findOne(found);
+	}
+
+	public static ProjitoMembership findByPrimaryKey(long id, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProjitoMembershipData _castedTargetData = (ProjitoMembershipData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getId())
+			{
+				return ProjitoMembershipFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static ProjitoMembership zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ProjitoMembership) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ProjitoMembershipRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ProjitoMembership, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> kerberos;
+		private LongAttribute<ParentOwnerType> projitoId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ProjitoMembershipProjitoFinderSubclass<ParentOwnerType> projito;
+		private ProjitoMembershipEmployeeFinderSubclass<ParentOwnerType> employee;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ProjitoMembershipRelatedFinder()
+		{
+			super();
+		}
+
+		public ProjitoMembershipRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoMembershipFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ProjitoMembershipFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ProjitoMembershipFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ProjitoMembershipFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.id();
+			attributes[1] = this.kerberos();
+			attributes[2] = this.projitoId();
+			attributes[3] = this.processingDateFrom();
+			attributes[4] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.projito());
+				relatedFinders.add(this.employee());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ProjitoMembership findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoMembershipFinder.findOne(operation, false);
+		}
+
+		public ProjitoMembership findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoMembershipFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ProjitoMembership> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ProjitoMembershipList((Operation) operation);
+		}
+
+		public MithraList<? extends ProjitoMembership> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ProjitoMembershipList result = (ProjitoMembershipList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ProjitoMembership> constructEmptyList()
+		{
+			return new ProjitoMembershipList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1812430043;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> id()
+		{
+			LongAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,4,-1,-1,true, false) :
+					new MappedLongAttribute(ProjitoMembershipFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> kerberos()
+		{
+			StringAttribute<ParentOwnerType> result = this.kerberos;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("KERBEROS","","kerberos",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoMembershipFinder.kerberos(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("employee");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ProjitoEmployee", "memberships");
+				this.kerberos = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> projitoId()
+		{
+			LongAttribute<ParentOwnerType> result = this.projitoId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("PROJITO_ID","","projitoId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,32,-1,-1,false, false) :
+					new MappedLongAttribute(ProjitoMembershipFinder.projitoId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("projito");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Projito", "memberships");
+				this.projitoId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,ProjitoMembershipFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoMembershipFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,ProjitoMembershipFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoMembershipFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ProjitoMembershipFinder.processingDateInfinity,false,false,ProjitoMembershipFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ProjitoMembershipFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoFinder.ProjitoSingleFinderForRelatedClasses<ParentOwnerType, Projito, ProjitoMembership> projito()
+		{
+			ProjitoMembershipProjitoFinderSubclass<ParentOwnerType> result = this.projito;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoFinder.zGetProjitoMembershipsMapper());
+				newMapper.setToMany(false);
+				result = new ProjitoMembershipProjitoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.projito = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoEmployeeFinder.ProjitoEmployeeSingleFinderForRelatedClasses<ParentOwnerType, ProjitoEmployee, ProjitoMembership> employee()
+		{
+			ProjitoMembershipEmployeeFinderSubclass<ParentOwnerType> result = this.employee;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoEmployeeFinder.zGetProjitoEmployeeMembershipsMapper());
+				newMapper.setToMany(false);
+				result = new ProjitoMembershipEmployeeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.employee = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ProjitoMembershipFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ProjitoMembershipFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ProjitoMembershipCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ProjitoMembershipRelatedFinder<ParentOwnerType, ReturnType, ProjitoMembershipList, OwnerType>
+	{
+		public ProjitoMembershipCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ProjitoMembershipCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ProjitoMembershipCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoMembershipCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ProjitoMembershipSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ProjitoMembershipRelatedFinder<ParentOwnerType, ReturnType, ProjitoMembershipList, OwnerType>
+	implements ToOneFinder
+	{
+		public ProjitoMembershipSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ProjitoMembershipSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ProjitoMembership other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ProjitoMembership findByPrimaryKey(long id, Timestamp processingDate)
+		{
+			ProjitoMembership _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ProjitoMembership) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ProjitoMembershipSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ProjitoMembershipSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoMembershipSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to PROJITO_MEMBERSHIP.ID **/
+	public static LongAttribute<ProjitoMembership> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to PROJITO_MEMBERSHIP.KERBEROS **/
+	public static StringAttribute<ProjitoMembership> kerberos()
+	{
+		return finder.kerberos();
+	}
+
+	/** maps to PROJITO_MEMBERSHIP.PROJITO_ID **/
+	public static LongAttribute<ProjitoMembership> projitoId()
+	{
+		return finder.projitoId();
+	}
+
+	/** maps to PROJITO_MEMBERSHIP.IN_Z **/
+	public static TimestampAttribute<ProjitoMembership> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to PROJITO_MEMBERSHIP.OUT_Z **/
+	public static TimestampAttribute<ProjitoMembership> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ProjitoMembership> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ProjitoFinder.ProjitoSingleFinderForRelatedClasses<ProjitoMembership, Projito, ProjitoMembership> projito()
+	{
+		return finder.projito();
+	}
+
+	public static class ProjitoMembershipProjitoFinderSubclass<ParentOwnerType> extends ProjitoFinder.ProjitoSingleFinderForRelatedClasses<ParentOwnerType, Projito, ProjitoMembership>
+	{
+		public ProjitoMembershipProjitoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "projito";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoFinder.id(),
+				ProjitoFinder.processingDate()).withExtractors(
+				ProjitoMembershipFinder.projitoId(),
+				ProjitoMembershipFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoMembershipProjitoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Projito plainValueOf(ProjitoMembership _obj)
+		{
+			return _obj.getProjito();
+		}
+
+		protected ProjitoList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoMembershipList)_obj).getProjitos();
+		}
+	}
+
+	public static ProjitoEmployeeFinder.ProjitoEmployeeSingleFinderForRelatedClasses<ProjitoMembership, ProjitoEmployee, ProjitoMembership> employee()
+	{
+		return finder.employee();
+	}
+
+	public static class ProjitoMembershipEmployeeFinderSubclass<ParentOwnerType> extends ProjitoEmployeeFinder.ProjitoEmployeeSingleFinderForRelatedClasses<ParentOwnerType, ProjitoEmployee, ProjitoMembership>
+	{
+		public ProjitoMembershipEmployeeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "employee";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoEmployeeFinder.kerberos(),
+				ProjitoEmployeeFinder.processingDate()).withExtractors(
+				ProjitoMembershipFinder.kerberos(),
+				ProjitoMembershipFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoMembershipEmployeeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProjitoEmployee plainValueOf(ProjitoMembership _obj)
+		{
+			return _obj.getEmployee();
+		}
+
+		protected ProjitoEmployeeList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoMembershipList)_obj).getEmployees();
+		}
+	}
+
+	public static Operation eq(ProjitoMembership other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ProjitoMembershipSingleFinder<ProjitoMembership, Object, ProjitoMembership> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			projitoId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			kerberos()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProjitoMembership");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
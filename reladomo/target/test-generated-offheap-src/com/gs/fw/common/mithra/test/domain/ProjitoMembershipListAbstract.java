@@ -0,0 +1,205 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProjitoMembershipListAbstract extends DelegatingList<ProjitoMembership> implements MithraDatedTransactionalList<ProjitoMembership>
+{
+	public ProjitoMembershipListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProjitoMembershipListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProjitoMembershipListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProjitoMembershipListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProjitoMembership[] elements()
+	{
+		ProjitoMembership[] result = new ProjitoMembership[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProjitoMembershipList intersection(ProjitoMembershipList another)
+	{
+		return (ProjitoMembershipList)super.intersection(another);
+	}
+
+	public ProjitoMembership getProjitoMembershipAt(int index)
+	{
+		return (ProjitoMembership)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Projito.id = this.projitoId</pre>
+	* @see Projito#getMemberships() reverse relationship Projito.getMemberships()
+	* @return The projito
+	*/
+	public ProjitoList getProjitos()
+	{
+		return (ProjitoList) this.zGetDelegated().resolveRelationship(this, ProjitoMembershipFinder.projito());
+	}
+
+	public void zSetParentContainerprojito(ProjitoAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ProjitoMembership item = this.getProjitoMembershipAt(i);
+			item.zSetParentContainerprojito(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProjitoEmployee.kerberos = this.kerberos</pre>
+	* @see ProjitoEmployee#getMemberships() reverse relationship ProjitoEmployee.getMemberships()
+	* @return The employee
+	*/
+	public ProjitoEmployeeList getEmployees()
+	{
+		return (ProjitoEmployeeList) this.zGetDelegated().resolveRelationship(this, ProjitoMembershipFinder.employee());
+	}
+
+	public void zSetParentContaineremployee(ProjitoEmployeeAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ProjitoMembership item = this.getProjitoMembershipAt(i);
+			item.zSetParentContaineremployee(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProjitoMembershipFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoMembershipList getNonPersistentCopy()
+	{
+		ProjitoMembershipList result = new ProjitoMembershipList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProjitoMembershipList asAdhoc()
+	{
+		return (ProjitoMembershipList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ProjitoMembership> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ProjitoMembershipList merge(MithraTransactionalList<ProjitoMembership> incoming, TopLevelMergeOptions<ProjitoMembership> mergeOptions)
+	{
+		return (ProjitoMembershipList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProjitoMembershipList getDetachedCopy()
+	{
+		ProjitoMembershipList result = new ProjitoMembershipList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)ProjitoMembershipFinder.id(), false, "projitoMembership", "com.gs.fw.common.mithra.test.domain.ProjitoSimulatedSequenceFactory", null);
+	}
+
+	public void setId(long newValue)
+	{
+		zSetLong(ProjitoMembershipFinder.id(), newValue);
+	}
+
+	public void setKerberos(String newValue)
+	{
+		zSetString(ProjitoMembershipFinder.kerberos(), newValue);
+	}
+
+	public void setProjitoId(long newValue)
+	{
+		zSetLong(ProjitoMembershipFinder.projitoId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoMembershipFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoMembershipFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
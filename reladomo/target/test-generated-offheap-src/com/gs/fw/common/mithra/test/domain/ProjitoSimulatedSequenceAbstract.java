@@ -0,0 +1,250 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ProjitoSimulatedSequenceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ProjitoSimulatedSequence.class.getName());
+	public ProjitoSimulatedSequenceAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ProjitoSimulatedSequence getDetachedCopy() throws MithraBusinessException
+	{
+		return (ProjitoSimulatedSequence) super.getDetachedCopy();
+	}
+
+	public ProjitoSimulatedSequence getNonPersistentCopy() throws MithraBusinessException
+	{
+		ProjitoSimulatedSequence result = (ProjitoSimulatedSequence) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ProjitoSimulatedSequence copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ProjitoSimulatedSequence) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ProjitoSimulatedSequence zFindOriginal()
+	{
+		ProjitoSimulatedSequenceData data = (ProjitoSimulatedSequenceData) this.currentData;
+		Operation op;
+		op = ProjitoSimulatedSequenceFinder.sequenceName().eq(data.getSequenceName());
+		return ProjitoSimulatedSequenceFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProjitoSimulatedSequenceData();
+	}
+
+	protected void zSetFromProjitoSimulatedSequenceData( ProjitoSimulatedSequenceData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromProjitoSimulatedSequenceData( ProjitoSimulatedSequenceData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isNextIdNull()
+	{
+		return ((ProjitoSimulatedSequenceData) this.zSynchronizedGetData()).isNextIdNull();
+	}
+
+	public long getNextId()
+	{
+		ProjitoSimulatedSequenceData data = (ProjitoSimulatedSequenceData) this.zSynchronizedGetData();
+		return data.getNextId();
+	}
+
+	public void setNextId(long newValue)
+	{
+		zSetLong(ProjitoSimulatedSequenceFinder.nextId(), newValue, false, false ,false);
+	}
+
+	public boolean isSequenceNameNull()
+	{
+		return ((ProjitoSimulatedSequenceData) this.zSynchronizedGetData()).isSequenceNameNull();
+	}
+
+	public String getSequenceName()
+	{
+		ProjitoSimulatedSequenceData data = (ProjitoSimulatedSequenceData) this.zSynchronizedGetData();
+		return data.getSequenceName();
+	}
+
+	public void setSequenceName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		throw new MithraBusinessException("Attribute 'sequenceName' cannot exceed maximum length of 255: " + newValue);
+		zSetString(ProjitoSimulatedSequenceFinder.sequenceName(), newValue, true, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProjitoSimulatedSequenceData _newData = (ProjitoSimulatedSequenceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ProjitoSimulatedSequenceData _newData = (ProjitoSimulatedSequenceData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProjitoSimulatedSequenceData _newData = (ProjitoSimulatedSequenceData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ProjitoSimulatedSequence zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProjitoSimulatedSequence original = (ProjitoSimulatedSequence) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ProjitoSimulatedSequenceFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProjitoSimulatedSequenceFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoSimulatedSequence getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, ProjitoSimulatedSequenceFinder.nextId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ProjitoSimulatedSequenceFinder.sequenceName(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ProjitoSimulatedSequenceAbstract result = (ProjitoSimulatedSequenceAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,185 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProjitoVersionListAbstract extends DelegatingList<ProjitoVersion> implements MithraDatedTransactionalList<ProjitoVersion>
+{
+	public ProjitoVersionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProjitoVersionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProjitoVersionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProjitoVersionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProjitoVersion[] elements()
+	{
+		ProjitoVersion[] result = new ProjitoVersion[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProjitoVersionList intersection(ProjitoVersionList another)
+	{
+		return (ProjitoVersionList)super.intersection(another);
+	}
+
+	public ProjitoVersion getProjitoVersionAt(int index)
+	{
+		return (ProjitoVersion)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.versionedRootId = Projito.id</pre>
+	* @see Projito#getVersion() reverse relationship Projito.getVersion()
+	* @return The versioned root
+	*/
+	public ProjitoList getVersionedRoots()
+	{
+		return (ProjitoList) this.zGetDelegated().resolveRelationship(this, ProjitoVersionFinder.versionedRoot());
+	}
+
+	public void zSetParentContainerversionedRoot(ProjitoAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ProjitoVersion item = this.getProjitoVersionAt(i);
+			item.zSetParentContainerversionedRoot(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProjitoVersionFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoVersionList getNonPersistentCopy()
+	{
+		ProjitoVersionList result = new ProjitoVersionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProjitoVersionList asAdhoc()
+	{
+		return (ProjitoVersionList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ProjitoVersion> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ProjitoVersionList merge(MithraTransactionalList<ProjitoVersion> incoming, TopLevelMergeOptions<ProjitoVersion> mergeOptions)
+	{
+		return (ProjitoVersionList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProjitoVersionList getDetachedCopy()
+	{
+		ProjitoVersionList result = new ProjitoVersionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)ProjitoVersionFinder.id(), false, "projitoVersion", "com.gs.fw.common.mithra.test.domain.ProjitoSimulatedSequenceFactory", null);
+	}
+
+	public void setId(long newValue)
+	{
+		zSetLong(ProjitoVersionFinder.id(), newValue);
+	}
+
+	public void setVersionedRootId(long newValue)
+	{
+		zSetLong(ProjitoVersionFinder.versionedRootId(), newValue);
+	}
+
+	public void setNumber(long newValue)
+	{
+		zSetLong(ProjitoVersionFinder.number(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoVersionFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoVersionFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1097 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class PureBitemporalOrderAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		PureBitemporalOrderFinder.businessDate()
+	,
+		PureBitemporalOrderFinder.processingDate()
+	, PureBitemporalOrderFinder.zGetDoubleAttributes(),PureBitemporalOrderFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(PureBitemporalOrder.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forrealOrder = new RealOrderRhs();
+	private static final class RealOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PureBitemporalOrderData _castedSrcData = (PureBitemporalOrderData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PureBitemporalOrderData _castedSrcData = (PureBitemporalOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		PureBitemporalOrderData _data = (PureBitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		PureBitemporalOrderItemList items =
+		(PureBitemporalOrderItemList) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public PureBitemporalOrderAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, PureBitemporalOrderFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, PureBitemporalOrderFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public PureBitemporalOrderAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public PureBitemporalOrderData zSynchronizedGetData()
+	{
+		return (PureBitemporalOrderData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !PureBitemporalOrderFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !PureBitemporalOrderFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PureBitemporalOrderData _data = (PureBitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		PureBitemporalOrderItemList items =
+		(PureBitemporalOrderItemList ) _data.getItems();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		PureBitemporalOrderFinder.PureBitemporalOrderRelatedFinder parentFinder = (PureBitemporalOrderFinder.PureBitemporalOrderRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PureBitemporalOrderData _newData = (PureBitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		{
+			PureBitemporalOrderItemList items =
+			(PureBitemporalOrderItemList) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public PureBitemporalOrder zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PureBitemporalOrderData _data = (PureBitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		PureBitemporalOrderItemList items =
+		(PureBitemporalOrderItemList ) _data.getItems();
+		PureBitemporalOrder original = (PureBitemporalOrder) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getItems().cascadeInsertAllUntil(exclusiveUntil);
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public PureBitemporalOrder copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (PureBitemporalOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public PureBitemporalOrder copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (PureBitemporalOrder) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			PureBitemporalOrderFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public PureBitemporalOrder getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		PureBitemporalOrderAbstract result = (PureBitemporalOrderAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (PureBitemporalOrder ) result;
+	}
+
+	public PureBitemporalOrder zFindOriginal()
+	{
+		PureBitemporalOrderData data = (PureBitemporalOrderData) this.currentData;
+		Operation op;
+		op = PureBitemporalOrderFinder.orderId().eq(data.getOrderId());
+		op = op.and(PureBitemporalOrderFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(PureBitemporalOrderFinder.processingDate().eq(this.getProcessingDate()));
+		return PureBitemporalOrderFinder.findOne(op);
+	}
+
+	public PureBitemporalOrder getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		PureBitemporalOrderAbstract result = (PureBitemporalOrderAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (PureBitemporalOrder ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public PureBitemporalOrder copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (PureBitemporalOrder) behavior.updateOriginalOrInsert(this);
+	}
+
+	public PureBitemporalOrder copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (PureBitemporalOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			PureBitemporalOrderData data = (PureBitemporalOrderData) this.currentData;
+			Operation op = PureBitemporalOrderFinder.businessDate().eq(this.businessDate);
+			op = op.and(PureBitemporalOrderFinder.processingDate().eq(this.processingDate));
+			op = op.and(PureBitemporalOrderFinder.orderId().eq(data.getOrderId()));
+			return PureBitemporalOrderFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		PureBitemporalOrderData data = (PureBitemporalOrderData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && PureBitemporalOrderFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		PureBitemporalOrderData data = (PureBitemporalOrderData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isDescriptionNull();
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.zSynchronizedGetData().isOrderDateNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.zSynchronizedGetData().isTrackingIdNull();
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zSynchronizedGetData().isUserIdNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getDescription()
+	{
+		return this.zSynchronizedGetData().getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 );
+		}
+
+		zSetString(PureBitemporalOrderFinder.description(), newValue, false );
+	}
+
+	public void setDescriptionUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 );
+		}
+
+		zSetString(PureBitemporalOrderFinder.description(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.zSynchronizedGetData().getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.orderDate(), newValue, false );
+	}
+
+	public void setOrderDateUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.orderDate(), newValue, false , exclusiveUntil);
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(PureBitemporalOrderFinder.orderId(), newValue, true ,false);
+		if (d == null) return;
+		PureBitemporalOrderData data = (PureBitemporalOrderData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			PureBitemporalOrderItemList items =
+			(PureBitemporalOrderItemList) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+		}
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetInteger(PureBitemporalOrderFinder.orderId(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		PureBitemporalOrderData data = (PureBitemporalOrderData) d;
+		PureBitemporalOrderItemList items =
+		(PureBitemporalOrderItemList) data.getItems();
+		if (items != null)
+		{
+			items.setOrderId(newValue);
+		}
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(PureBitemporalOrderFinder.state(), newValue, false );
+	}
+
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(PureBitemporalOrderFinder.state(), newValue, false , exclusiveUntil);
+	}
+
+	public String getTrackingId()
+	{
+		return this.zSynchronizedGetData().getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(PureBitemporalOrderFinder.trackingId(), newValue, false );
+	}
+
+	public void setTrackingIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(PureBitemporalOrderFinder.trackingId(), newValue, false , exclusiveUntil);
+	}
+
+	public int getUserId()
+	{
+		PureBitemporalOrderData data = this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(PureBitemporalOrderFinder.userId(), newValue, false ,true);
+	}
+
+	public void setUserIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(PureBitemporalOrderFinder.userId(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, PureBitemporalOrderFinder.userId(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		PureBitemporalOrderData data2 = (PureBitemporalOrderData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && PureBitemporalOrderFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(PureBitemporalOrderFinder.userId(), false);
+	}
+
+	public void setUserIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureBitemporalOrderFinder.userId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PureBitemporalOrderData _newData = (PureBitemporalOrderData) _data;
+		{
+			PureBitemporalOrderItemList items =
+			(PureBitemporalOrderItemList) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		PureBitemporalOrderData _newData = (PureBitemporalOrderData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((PureBitemporalOrderItemList)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		PureBitemporalOrderData _newData = (PureBitemporalOrderData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((PureBitemporalOrderItemList)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PureBitemporalOrderItem.orderId = this.orderId</pre>
+	* @see PureBitemporalOrderItem#getOrder() reverse relationship PureBitemporalOrderItem.getOrder()
+	* @return items
+	*/
+	public PureBitemporalOrderItemList getItems()
+	{
+		PureBitemporalOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		PureBitemporalOrderData _data = (PureBitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(PureBitemporalOrderFinder.items().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (PureBitemporalOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(PureBitemporalOrderFinder.items().zGetRelationshipMultiExtractor(), this);
+					_result = new PureBitemporalOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (PureBitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (PureBitemporalOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				_result = new PureBitemporalOrderItemList();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (PureBitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new PureBitemporalOrderItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(PureBitemporalOrderItemList items)
+	{
+		PureBitemporalOrderItemList _items = (PureBitemporalOrderItemList) items;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PureBitemporalOrderData _data = (PureBitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(new RelationshipMultiEqualityOperation(PureBitemporalOrderFinder.items().zGetRelationshipMultiExtractor(), this),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			PureBitemporalOrderItemList itemsToDelete = new PureBitemporalOrderItemList();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				PureBitemporalOrderItem item = _items.getPureBitemporalOrderItemAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Order.orderId = this.orderId</pre>
+	* @return The real order
+	*/
+	public Order getRealOrder()
+	{
+		Order _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		PureBitemporalOrderData _data = (PureBitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrealOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = OrderFinder.orderId().eq(_data.getOrderId());
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getRealOrder();
+			if (_result == null)
+			{
+				{
+					_op = OrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRealOrder(Order realOrder)
+	{
+		Order _realOrder = (Order) realOrder;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PureBitemporalOrderData _data = (PureBitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setRealOrder(_realOrder);
+			if (_realOrder == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_realOrder.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_realOrder == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_realOrder.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return PureBitemporalOrderFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PureBitemporalOrderData.PureBitemporalOrderDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		PureBitemporalOrderData data = (PureBitemporalOrderData) PureBitemporalOrderFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("PureBitemporalOrder has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromPureBitemporalOrderData( PureBitemporalOrderData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromPureBitemporalOrderData( PureBitemporalOrderData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) PureBitemporalOrderFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PureBitemporalOrderFinder.getMithraObjectPortal();
+	}
+
+	public PureBitemporalOrder getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(PureBitemporalOrderAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		PureBitemporalOrderAbstract from = (PureBitemporalOrderAbstract) f;
+		PureBitemporalOrderData newData = from.zSynchronizedGetData();
+		this.setDescription(newData.getDescription());
+		this.setOrderDate(newData.getOrderDate());
+		this.setState(newData.getState());
+		this.setTrackingId(newData.getTrackingId());
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNull();
+		}
+		else
+		{
+			this.setUserId(newData.getUserId());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		PureBitemporalOrderData _newData = (PureBitemporalOrderData) _data;
+		PureBitemporalOrderItemList items =
+		(PureBitemporalOrderItemList) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		PureBitemporalOrderData _newData = (PureBitemporalOrderData) _data;
+		PureBitemporalOrderItemList items =
+		(PureBitemporalOrderItemList) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(PureBitemporalOrderAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		PureBitemporalOrderAbstract from = (PureBitemporalOrderAbstract)f;
+		PureBitemporalOrderData newData = from.zSynchronizedGetData();
+		this.setDescriptionUntil(newData.getDescription(), exclusiveUntil);
+		this.setOrderDateUntil(newData.getOrderDate(), exclusiveUntil);
+		this.setStateUntil(newData.getState(), exclusiveUntil);
+		this.setTrackingIdUntil(newData.getTrackingId(), exclusiveUntil);
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setUserIdUntil(newData.getUserId(), exclusiveUntil);
+		}
+	}
+
+	protected abstract void setUserIdAndDescriptionImpl(int userId, String description, MithraTransaction mithraTransaction)throws IllegalArgumentException;
+	public void setUserIdAndDescription(int userId, String description) throws IllegalArgumentException
+	{
+		this.setUserIdAndDescription(userId,description, 0);
+	}
+
+	protected void setUserIdAndDescription(int userId, String description, int _retryCount)throws IllegalArgumentException
+	{
+		MithraTransaction _tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+		boolean _nested = _tx != null;
+		for(_retryCount = MithraTransaction.DEFAULT_TRANSACTION_RETRIES - _retryCount; _retryCount > 0; )
+		{
+			try
+			{
+				if (!_nested)
+				{
+					_tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+					_tx.setTransactionName("PureBitemporalOrder.setUserIdAndDescription");
+				}
+
+				this.setUserIdAndDescriptionImpl(userId,description, _tx);
+				if (!_nested) _tx.commit();
+				break;
+			}
+
+			catch(IllegalArgumentException _mithra_e_0)
+			{
+				this.getLogger().error("setUserIdAndDescription rolled back tx ", _mithra_e_0);
+				if (!_nested && _tx != null)
+				{
+					_tx.rollback();
+				}
+
+				throw _mithra_e_0;
+			}
+
+			catch(Throwable _t)
+			{
+				if (_nested) MithraTransaction.handleNestedTransactionException(_tx, _t);
+				_retryCount = MithraTransaction.handleTransactionException(_tx, _t, _retryCount);
+			}
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		PureBitemporalOrderData newData = (PureBitemporalOrderData) d;
+		PureBitemporalOrderData data = (PureBitemporalOrderData) nd;
+		if (PureBitemporalOrderFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, PureBitemporalOrderFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, PureBitemporalOrderFinder.orderDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderFinder.orderId(), false);
+		changed |= zUpdateString(behavior, data, newData, PureBitemporalOrderFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, PureBitemporalOrderFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, PureBitemporalOrderFinder.description(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, PureBitemporalOrderFinder.orderDate(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderFinder.orderId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, PureBitemporalOrderFinder.state(), false, until);
+		changed |= zUpdateString(behavior, data, newData, PureBitemporalOrderFinder.trackingId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderFinder.userId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getItems().cascadeTerminateAll();
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getItems().cascadeTerminateAllUntil(exclusiveUntil);
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		PureBitemporalOrderData data = ((PureBitemporalOrderData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		PureBitemporalOrderData data = ((PureBitemporalOrderData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		PureBitemporalOrderData data = ((PureBitemporalOrderData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		PureBitemporalOrderData localData = (PureBitemporalOrderData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			PureBitemporalOrderItem item = (PureBitemporalOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(PureBitemporalOrderAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			PureBitemporalOrderItem item = (PureBitemporalOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,1185 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PureBitemporalOrderFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/PureBitemporalOrder";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.PureBitemporalOrder";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.PureBitemporalOrder");
+	private static final PureBitemporalOrderSingleFinder<PureBitemporalOrder, Object, PureBitemporalOrder> finder = new PureBitemporalOrderSingleFinder<PureBitemporalOrder, Object, PureBitemporalOrder>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byTrackingId = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(PureBitemporalOrderFinder.PureBitemporalOrderRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("realOrder");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = PureBitemporalOrderFinder.orderId().constructEqualityMapper(PureBitemporalOrderItemFinder.orderId());
+			result[1] = PureBitemporalOrderItemFinder.orderId().constructEqualityMapper(PureBitemporalOrderFinder.orderId());
+			result[2] = PureBitemporalOrderFinder.businessDate().constructEqualityMapper(PureBitemporalOrderItemFinder.businessDate());
+			result[3] = PureBitemporalOrderItemFinder.businessDate().constructEqualityMapper(PureBitemporalOrderFinder.businessDate());
+			result[4] = PureBitemporalOrderFinder.processingDate().constructEqualityMapper(PureBitemporalOrderItemFinder.processingDate());
+			result[5] = PureBitemporalOrderItemFinder.processingDate().constructEqualityMapper(PureBitemporalOrderFinder.processingDate());
+			result[6] = PureBitemporalOrderFinder.orderId().constructEqualityMapper(OrderFinder.orderId());
+			result[7] = OrderFinder.orderId().constructEqualityMapper(PureBitemporalOrderFinder.orderId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static PureBitemporalOrder findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static PureBitemporalOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static PureBitemporalOrderList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (PureBitemporalOrderList) finder.findMany(operation);
+	}
+
+	public static PureBitemporalOrderList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (PureBitemporalOrderList) finder.findManyBypassCache(operation);
+	}
+
+	private static PureBitemporalOrder findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (PureBitemporalOrder) FinderUtils.findOne(found);
+	}
+
+	public static PureBitemporalOrder findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PureBitemporalOrderData _castedTargetData = (PureBitemporalOrderData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return PureBitemporalOrderFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && PureBitemporalOrderFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static PureBitemporalOrder findByTrackingId(String trackingId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByTrackingId(trackingId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forTrackingId = new TrackingIdRhs();
+	private static final class TrackingIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PureBitemporalOrderData _castedTargetData = (PureBitemporalOrderData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getTrackingId()))
+			{
+				return PureBitemporalOrderFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && PureBitemporalOrderFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static PureBitemporalOrder zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (PureBitemporalOrder) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class PureBitemporalOrderRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<PureBitemporalOrder, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private PureBitemporalOrderItemsFinderSubclass<ParentOwnerType> items;
+		private PureBitemporalOrderRealOrderFinderSubclass<ParentOwnerType> realOrder;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public PureBitemporalOrderRelatedFinder()
+		{
+			super();
+		}
+
+		public PureBitemporalOrderRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.PureBitemporalOrderFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return PureBitemporalOrderFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return PureBitemporalOrderFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return PureBitemporalOrderFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			attributes[6] = this.businessDateFrom();
+			attributes[7] = this.businessDateTo();
+			attributes[8] = this.processingDateFrom();
+			attributes[9] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.realOrder());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.items());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public PureBitemporalOrder findOne(com.gs.fw.finder.Operation operation)
+		{
+			return PureBitemporalOrderFinder.findOne(operation, false);
+		}
+
+		public PureBitemporalOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return PureBitemporalOrderFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends PureBitemporalOrder> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new PureBitemporalOrderList((Operation) operation);
+		}
+
+		public MithraList<? extends PureBitemporalOrder> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			PureBitemporalOrderList result = (PureBitemporalOrderList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends PureBitemporalOrder> constructEmptyList()
+		{
+			return new PureBitemporalOrderList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1841511879;
+		}
+
+		public boolean isPure()
+		{
+			return true;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("null","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(PureBitemporalOrderFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("null","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(PureBitemporalOrderFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("null","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,64,4,0,false, false) :
+					new MappedIntegerAttribute(PureBitemporalOrderFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("null","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,50,false, false) :
+					new MappedStringAttribute(PureBitemporalOrderFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("null","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,56,-1,-1,20,false, false) :
+					new MappedStringAttribute(PureBitemporalOrderFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("null","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,60,-1,-1,15,false, false) :
+					new MappedStringAttribute(PureBitemporalOrderFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("null","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,PureBitemporalOrderFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(PureBitemporalOrderFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("null","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,PureBitemporalOrderFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(PureBitemporalOrderFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("null","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,PureBitemporalOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(PureBitemporalOrderFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("null","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,PureBitemporalOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(PureBitemporalOrderFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),PureBitemporalOrderFinder.businessDateInfinity,false,false,PureBitemporalOrderFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(PureBitemporalOrderFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),PureBitemporalOrderFinder.processingDateInfinity,false,false,PureBitemporalOrderFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(PureBitemporalOrderFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public PureBitemporalOrderItemFinder.PureBitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, PureBitemporalOrderItemList, PureBitemporalOrder> items()
+		{
+			PureBitemporalOrderItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PureBitemporalOrderFinder.zGetPureBitemporalOrderItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new PureBitemporalOrderItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, PureBitemporalOrder> realOrder()
+		{
+			PureBitemporalOrderRealOrderFinderSubclass<ParentOwnerType> result = this.realOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PureBitemporalOrderFinder.zGetPureBitemporalOrderRealOrderReverseMapper());
+				newMapper.setToMany(false);
+				result = new PureBitemporalOrderRealOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.realOrder = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return PureBitemporalOrderFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return PureBitemporalOrderFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class PureBitemporalOrderCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends PureBitemporalOrderRelatedFinder<ParentOwnerType, ReturnType, PureBitemporalOrderList, OwnerType>
+	{
+		public PureBitemporalOrderCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class PureBitemporalOrderCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends PureBitemporalOrderCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PureBitemporalOrderCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class PureBitemporalOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends PureBitemporalOrderRelatedFinder<ParentOwnerType, ReturnType, PureBitemporalOrderList, OwnerType>
+	implements ToOneFinder
+	{
+		public PureBitemporalOrderSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public PureBitemporalOrderSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(PureBitemporalOrder other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public PureBitemporalOrder findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+		{
+			PureBitemporalOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (PureBitemporalOrder) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public PureBitemporalOrder findByTrackingId(String trackingId, Timestamp businessDate, Timestamp processingDate)
+		{
+			PureBitemporalOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (trackingId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(trackingId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forTrackingId, businessDate, processingDate, PureBitemporalOrderFinder.zGetIndexbyTrackingIdRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (PureBitemporalOrder) _related;
+			if (_related == null)
+			{
+				_op = this.trackingId().eq(trackingId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class PureBitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends PureBitemporalOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PureBitemporalOrderSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetPureBitemporalOrderItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructPureBitemporalOrderItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetPureBitemporalOrderItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructPureBitemporalOrderItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetPureBitemporalOrderItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructPureBitemporalOrderItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructPureBitemporalOrderItemsPureReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(PureBitemporalOrderFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(PureBitemporalOrderFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(PureBitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructPureBitemporalOrderItemsReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(PureBitemporalOrderFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(PureBitemporalOrderFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(PureBitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructPureBitemporalOrderItemsMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(PureBitemporalOrderFinder.zGetConstantJoin(1));
+		itemsMapperMapperList.add(PureBitemporalOrderFinder.zGetConstantJoin(3));
+		itemsMapperMapperList.add(PureBitemporalOrderFinder.zGetConstantJoin(5));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper realOrderReverseMapper = null;
+	public static Mapper zGetPureBitemporalOrderRealOrderReverseMapper()
+	{
+		if (realOrderReverseMapper == null)
+		{
+			realOrderReverseMapper = zConstructPureBitemporalOrderRealOrderReverseMapper();
+		}
+
+		return realOrderReverseMapper;
+	}
+
+	private static Mapper realOrderMapper = null;
+	public static Mapper zGetPureBitemporalOrderRealOrderMapper()
+	{
+		if (realOrderMapper == null)
+		{
+			realOrderMapper = zConstructPureBitemporalOrderRealOrderMapper();
+		}
+
+		return realOrderMapper;
+	}
+
+	private static Mapper realOrderPureReverseMapper = null;
+	public static Mapper zGetPureBitemporalOrderRealOrderPureReverseMapper()
+	{
+		if (realOrderPureReverseMapper == null)
+		{
+			realOrderPureReverseMapper = zConstructPureBitemporalOrderRealOrderPureReverseMapper();
+		}
+
+		return realOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructPureBitemporalOrderRealOrderPureReverseMapper()
+	{
+		Mapper realOrderMapper = PureBitemporalOrderFinder.zGetConstantJoin(6);
+		realOrderMapper.setName("realOrder");
+		return realOrderMapper;
+	}
+
+	private static Mapper zConstructPureBitemporalOrderRealOrderReverseMapper()
+	{
+		Mapper realOrderMapper = PureBitemporalOrderFinder.zGetConstantJoin(6);
+		realOrderMapper.setName("realOrder");
+		return realOrderMapper;
+	}
+
+	private static Mapper zConstructPureBitemporalOrderRealOrderMapper()
+	{
+		Mapper realOrderMapper = PureBitemporalOrderFinder.zGetConstantJoin(7);
+		realOrderMapper.setName("realOrder_Reverse");
+		return realOrderMapper;
+	}
+
+	/** maps to null.null **/
+	public static IntegerAttribute<PureBitemporalOrder> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to null.null **/
+	public static TimestampAttribute<PureBitemporalOrder> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to null.null **/
+	public static IntegerAttribute<PureBitemporalOrder> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to null.null **/
+	public static StringAttribute<PureBitemporalOrder> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to null.null **/
+	public static StringAttribute<PureBitemporalOrder> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to null.null **/
+	public static StringAttribute<PureBitemporalOrder> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	/** maps to null.null **/
+	public static TimestampAttribute<PureBitemporalOrder> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to null.null **/
+	public static TimestampAttribute<PureBitemporalOrder> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to null.null **/
+	public static TimestampAttribute<PureBitemporalOrder> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to null.null **/
+	public static TimestampAttribute<PureBitemporalOrder> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<PureBitemporalOrder> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<PureBitemporalOrder> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static PureBitemporalOrderItemFinder.PureBitemporalOrderItemCollectionFinderForRelatedClasses<PureBitemporalOrder, PureBitemporalOrderItemList, PureBitemporalOrder> items()
+	{
+		return finder.items();
+	}
+
+	public static class PureBitemporalOrderItemsFinderSubclass<ParentOwnerType> extends PureBitemporalOrderItemFinder.PureBitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, PureBitemporalOrderItemList, PureBitemporalOrder>
+	{
+		public PureBitemporalOrderItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				PureBitemporalOrderItemFinder.orderId(),
+				PureBitemporalOrderItemFinder.businessDate(),
+				PureBitemporalOrderItemFinder.processingDate()).withExtractors(
+				PureBitemporalOrderFinder.orderId(),
+				PureBitemporalOrderFinder.businessDate(),
+				PureBitemporalOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PureBitemporalOrderItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((PureBitemporalOrder) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected PureBitemporalOrderItemList plainValueOf(PureBitemporalOrder _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected PureBitemporalOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((PureBitemporalOrderList)_obj).getItems();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<PureBitemporalOrder, Order, PureBitemporalOrder> realOrder()
+	{
+		return finder.realOrder();
+	}
+
+	public static class PureBitemporalOrderRealOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, PureBitemporalOrder>
+	{
+		public PureBitemporalOrderRealOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "realOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PureBitemporalOrderRealOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(PureBitemporalOrder _obj)
+		{
+			return _obj.getRealOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((PureBitemporalOrderList)_obj).getRealOrders();
+		}
+	}
+
+	public static Operation eq(PureBitemporalOrder other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static PureBitemporalOrderSingleFinder<PureBitemporalOrder, Object, PureBitemporalOrder> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("byUserId", new Attribute[] 
+		{
+			userId()
+		}
+
+		);
+		cache.addIndex("byState", new Attribute[] 
+		{
+			state()
+		}
+
+		);
+		INDEX_byTrackingId = cache.addUniqueIndex("byTrackingId", new Attribute[] 
+		{
+			trackingId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyTrackingIdRef() 
+	{
+		return INDEX_byTrackingId; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				new PureMithraObjectPersister(getFinderInstance()));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				new PureMithraObjectPersister(getFinderInstance()));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.PureBitemporalOrder");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,1009 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class PureBitemporalOrderItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		PureBitemporalOrderItemFinder.businessDate()
+	,
+		PureBitemporalOrderItemFinder.processingDate()
+	, PureBitemporalOrderItemFinder.zGetDoubleAttributes(),PureBitemporalOrderItemFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(PureBitemporalOrderItem.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = PureBitemporalOrderFinder.businessDate();
+		private AsOfAttribute processingDate = PureBitemporalOrderFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PureBitemporalOrderItem _castedSrcObject = (PureBitemporalOrderItem) _srcObject;
+			PureBitemporalOrderItemData _castedSrcData = (PureBitemporalOrderItemData) _srcData;
+			PureBitemporalOrderData _castedTargetData = (PureBitemporalOrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PureBitemporalOrderItemData _castedSrcData = (PureBitemporalOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public PureBitemporalOrderItemAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, PureBitemporalOrderItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, PureBitemporalOrderItemFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public PureBitemporalOrderItemAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public PureBitemporalOrderItemData zSynchronizedGetData()
+	{
+		return (PureBitemporalOrderItemData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !PureBitemporalOrderItemFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !PureBitemporalOrderItemFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public PureBitemporalOrderItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PureBitemporalOrderItem original = (PureBitemporalOrderItem) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public PureBitemporalOrderItem copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (PureBitemporalOrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public PureBitemporalOrderItem copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (PureBitemporalOrderItem) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			PureBitemporalOrderItemFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public PureBitemporalOrderItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		PureBitemporalOrderItemAbstract result = (PureBitemporalOrderItemAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (PureBitemporalOrderItem ) result;
+	}
+
+	public PureBitemporalOrderItem zFindOriginal()
+	{
+		PureBitemporalOrderItemData data = (PureBitemporalOrderItemData) this.currentData;
+		Operation op;
+		op = PureBitemporalOrderItemFinder.id().eq(data.getId());
+		op = op.and(PureBitemporalOrderItemFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(PureBitemporalOrderItemFinder.processingDate().eq(this.getProcessingDate()));
+		return PureBitemporalOrderItemFinder.findOne(op);
+	}
+
+	public PureBitemporalOrderItem getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		PureBitemporalOrderItemAbstract result = (PureBitemporalOrderItemAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (PureBitemporalOrderItem ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public PureBitemporalOrderItem copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (PureBitemporalOrderItem) behavior.updateOriginalOrInsert(this);
+	}
+
+	public PureBitemporalOrderItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (PureBitemporalOrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			PureBitemporalOrderItemData data = (PureBitemporalOrderItemData) this.currentData;
+			Operation op = PureBitemporalOrderItemFinder.businessDate().eq(this.businessDate);
+			op = op.and(PureBitemporalOrderItemFinder.processingDate().eq(this.processingDate));
+			op = op.and(PureBitemporalOrderItemFinder.id().eq(data.getId()));
+			return PureBitemporalOrderItemFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		PureBitemporalOrderItemData data = (PureBitemporalOrderItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && PureBitemporalOrderItemFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		PureBitemporalOrderItemData data = (PureBitemporalOrderItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return this.zSynchronizedGetData().isDiscountPriceNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return this.zSynchronizedGetData().isOriginalPriceNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderItemFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderItemFinder.businessDateTo(), newValue, false );
+	}
+
+	public double getDiscountPrice()
+	{
+		PureBitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isDiscountPriceNull()) MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(PureBitemporalOrderItemFinder.discountPrice(), newValue, false ,true);
+	}
+
+	public void setDiscountPriceUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(PureBitemporalOrderItemFinder.discountPrice(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementDiscountPrice(double increment)
+	{
+		zIncrement(increment, PureBitemporalOrderItemFinder.discountPrice(), false);
+	}
+
+	public void incrementDiscountPriceUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, PureBitemporalOrderItemFinder.discountPrice(), false);
+	}
+
+	public int getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(PureBitemporalOrderItemFinder.id(), newValue, true ,false);
+	}
+
+	public void setIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(PureBitemporalOrderItemFinder.id(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getOrderId()
+	{
+		PureBitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isOrderIdNull()) MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(PureBitemporalOrderItemFinder.orderId(), newValue, false ,true);
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(PureBitemporalOrderItemFinder.orderId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public double getOriginalPrice()
+	{
+		PureBitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isOriginalPriceNull()) MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(PureBitemporalOrderItemFinder.originalPrice(), newValue, false ,true);
+	}
+
+	public void setOriginalPriceUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(PureBitemporalOrderItemFinder.originalPrice(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementOriginalPrice(double increment)
+	{
+		zIncrement(increment, PureBitemporalOrderItemFinder.originalPrice(), false);
+	}
+
+	public void incrementOriginalPriceUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, PureBitemporalOrderItemFinder.originalPrice(), false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderItemFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderItemFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		PureBitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(PureBitemporalOrderItemFinder.productId(), newValue, true ,true);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(PureBitemporalOrderItemFinder.productId(), newValue, true , exclusiveUntil,true);
+	}
+
+	public double getQuantity()
+	{
+		PureBitemporalOrderItemData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(PureBitemporalOrderItemFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(PureBitemporalOrderItemFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, PureBitemporalOrderItemFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, PureBitemporalOrderItemFinder.quantity(), false);
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(PureBitemporalOrderItemFinder.state(), newValue, false );
+	}
+
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(PureBitemporalOrderItemFinder.state(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, PureBitemporalOrderItemFinder.orderId(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureBitemporalOrderItemFinder.productId(), true, mustCheckCurrent);
+		zNullify(behavior, data, PureBitemporalOrderItemFinder.quantity(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureBitemporalOrderItemFinder.originalPrice(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureBitemporalOrderItemFinder.discountPrice(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		PureBitemporalOrderItemData data2 = (PureBitemporalOrderItemData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && PureBitemporalOrderItemFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setOrderIdNull()
+	{
+		zNullify(PureBitemporalOrderItemFinder.orderId(), false);
+	}
+
+	public void setOrderIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureBitemporalOrderItemFinder.orderId(), false, exclusiveUntil);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(PureBitemporalOrderItemFinder.productId(), false);
+	}
+
+	public void setProductIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureBitemporalOrderItemFinder.productId(), false, exclusiveUntil);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(PureBitemporalOrderItemFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureBitemporalOrderItemFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zNullify(PureBitemporalOrderItemFinder.originalPrice(), false);
+	}
+
+	public void setOriginalPriceNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureBitemporalOrderItemFinder.originalPrice(), false, exclusiveUntil);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zNullify(PureBitemporalOrderItemFinder.discountPrice(), false);
+	}
+
+	public void setDiscountPriceNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureBitemporalOrderItemFinder.discountPrice(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PureBitemporalOrderItemData _newData = (PureBitemporalOrderItemData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		PureBitemporalOrderItemData _newData = (PureBitemporalOrderItemData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		PureBitemporalOrderItemData _newData = (PureBitemporalOrderItemData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = PureBitemporalOrder.orderId</pre>
+	* @see PureBitemporalOrder#getItems() reverse relationship PureBitemporalOrder.getItems()
+	* @return The order
+	*/
+	public PureBitemporalOrder getOrder()
+	{
+		PureBitemporalOrder _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		PureBitemporalOrderItemData _data = (PureBitemporalOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = PureBitemporalOrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (PureBitemporalOrder) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(PureBitemporalOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (PureBitemporalOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(PureBitemporalOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+					_result = PureBitemporalOrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (PureBitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (PureBitemporalOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(PureBitemporalOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = PureBitemporalOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(PureBitemporalOrder order)
+	{
+		PureBitemporalOrder _order = (PureBitemporalOrder) order;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PureBitemporalOrderItemData _data = (PureBitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrder();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((PureBitemporalOrder)_prev).getItems()).zMarkMoved( (PureBitemporalOrderItem) this);
+			}
+
+			_data.setOrder(_order);
+			_order.getItems().add((PureBitemporalOrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_order == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerorder(PureBitemporalOrderAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PureBitemporalOrderItemData _data = (PureBitemporalOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return PureBitemporalOrderItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PureBitemporalOrderItemData.PureBitemporalOrderItemDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		PureBitemporalOrderItemData data = (PureBitemporalOrderItemData) PureBitemporalOrderItemFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("PureBitemporalOrderItem has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromPureBitemporalOrderItemData( PureBitemporalOrderItemData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromPureBitemporalOrderItemData( PureBitemporalOrderItemData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) PureBitemporalOrderItemFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PureBitemporalOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public PureBitemporalOrderItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(PureBitemporalOrderItemAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		PureBitemporalOrderItemAbstract from = (PureBitemporalOrderItemAbstract) f;
+		PureBitemporalOrderItemData newData = from.zSynchronizedGetData();
+		if (from.isDiscountPriceNull())
+		{
+			this.setDiscountPriceNull();
+		}
+		else
+		{
+			this.setDiscountPrice(newData.getDiscountPrice());
+		}
+
+		if (from.isOrderIdNull())
+		{
+			this.setOrderIdNull();
+		}
+		else
+		{
+			this.setOrderId(newData.getOrderId());
+		}
+
+		if (from.isOriginalPriceNull())
+		{
+			this.setOriginalPriceNull();
+		}
+		else
+		{
+			this.setOriginalPrice(newData.getOriginalPrice());
+		}
+
+		if (from.isProductIdNull())
+		{
+			this.setProductIdNull();
+		}
+		else
+		{
+			this.setProductId(newData.getProductId());
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+
+		this.setState(newData.getState());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		PureBitemporalOrderItemData _newData = (PureBitemporalOrderItemData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		PureBitemporalOrderItemData _newData = (PureBitemporalOrderItemData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(PureBitemporalOrderItemAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		PureBitemporalOrderItemAbstract from = (PureBitemporalOrderItemAbstract)f;
+		PureBitemporalOrderItemData newData = from.zSynchronizedGetData();
+		if (from.isDiscountPriceNull())
+		{
+			this.setDiscountPriceNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setDiscountPriceUntil(newData.getDiscountPrice(), exclusiveUntil);
+		}
+
+		if (from.isOrderIdNull())
+		{
+			this.setOrderIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setOrderIdUntil(newData.getOrderId(), exclusiveUntil);
+		}
+
+		if (from.isOriginalPriceNull())
+		{
+			this.setOriginalPriceNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setOriginalPriceUntil(newData.getOriginalPrice(), exclusiveUntil);
+		}
+
+		if (from.isProductIdNull())
+		{
+			this.setProductIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setProductIdUntil(newData.getProductId(), exclusiveUntil);
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+
+		this.setStateUntil(newData.getState(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		PureBitemporalOrderItemData newData = (PureBitemporalOrderItemData) d;
+		PureBitemporalOrderItemData data = (PureBitemporalOrderItemData) nd;
+		if (PureBitemporalOrderItemFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, PureBitemporalOrderItemFinder.discountPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderItemFinder.id(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderItemFinder.orderId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, PureBitemporalOrderItemFinder.originalPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderItemFinder.productId(), true);
+		changed |= zUpdateDouble(behavior, data, newData, PureBitemporalOrderItemFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, PureBitemporalOrderItemFinder.state(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, PureBitemporalOrderItemFinder.discountPrice(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderItemFinder.id(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderItemFinder.orderId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, PureBitemporalOrderItemFinder.originalPrice(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, PureBitemporalOrderItemFinder.productId(), true, until);
+		changed |= zUpdateDouble(behavior, data, newData, PureBitemporalOrderItemFinder.quantity(), false, until);
+		changed |= zUpdateString(behavior, data, newData, PureBitemporalOrderItemFinder.state(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		PureBitemporalOrderItemData data = ((PureBitemporalOrderItemData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		PureBitemporalOrderItemData data = ((PureBitemporalOrderItemData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		PureBitemporalOrderItemData data = ((PureBitemporalOrderItemData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderItemFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		PureBitemporalOrderItemData localData = (PureBitemporalOrderItemData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,235 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PureBitemporalOrderItemListAbstract extends DelegatingList<PureBitemporalOrderItem> implements MithraDatedTransactionalList<PureBitemporalOrderItem>
+{
+	public PureBitemporalOrderItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PureBitemporalOrderItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PureBitemporalOrderItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PureBitemporalOrderItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PureBitemporalOrderItem[] elements()
+	{
+		PureBitemporalOrderItem[] result = new PureBitemporalOrderItem[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PureBitemporalOrderItemList intersection(PureBitemporalOrderItemList another)
+	{
+		return (PureBitemporalOrderItemList)super.intersection(another);
+	}
+
+	public PureBitemporalOrderItem getPureBitemporalOrderItemAt(int index)
+	{
+		return (PureBitemporalOrderItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = PureBitemporalOrder.orderId</pre>
+	* @see PureBitemporalOrder#getItems() reverse relationship PureBitemporalOrder.getItems()
+	* @return The order
+	*/
+	public PureBitemporalOrderList getOrders()
+	{
+		return (PureBitemporalOrderList) this.zGetDelegated().resolveRelationship(this, PureBitemporalOrderItemFinder.order());
+	}
+
+	public void zSetParentContainerorder(PureBitemporalOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			PureBitemporalOrderItem item = this.getPureBitemporalOrderItemAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureBitemporalOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public PureBitemporalOrderItemList getNonPersistentCopy()
+	{
+		PureBitemporalOrderItemList result = new PureBitemporalOrderItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PureBitemporalOrderItemList asAdhoc()
+	{
+		return (PureBitemporalOrderItemList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<PureBitemporalOrderItem> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public PureBitemporalOrderItemList merge(MithraTransactionalList<PureBitemporalOrderItem> incoming, TopLevelMergeOptions<PureBitemporalOrderItem> mergeOptions)
+	{
+		return (PureBitemporalOrderItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public PureBitemporalOrderItemList getDetachedCopy()
+	{
+		PureBitemporalOrderItemList result = new PureBitemporalOrderItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(PureBitemporalOrderItemFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(PureBitemporalOrderItemFinder.orderId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(PureBitemporalOrderItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(PureBitemporalOrderItemFinder.quantity(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(PureBitemporalOrderItemFinder.originalPrice(), newValue);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(PureBitemporalOrderItemFinder.discountPrice(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(PureBitemporalOrderItemFinder.state(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderItemFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderItemFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderItemFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderItemFinder.processingDateTo(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(PureBitemporalOrderItemFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(PureBitemporalOrderItemFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(PureBitemporalOrderItemFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(PureBitemporalOrderItemFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(PureBitemporalOrderItemFinder.discountPrice());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
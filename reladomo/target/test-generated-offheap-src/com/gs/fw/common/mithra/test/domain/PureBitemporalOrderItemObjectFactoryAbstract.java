@@ -0,0 +1,189 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.BiTemporalTransactionalDataContainer;
+import com.gs.fw.common.mithra.behavior.TemporalContainer;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.portal.MithraAbstractPureDatedObjectFactory;
+import com.gs.fw.common.mithra.attribute.SingleColumnAttribute;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/ObjectFactoryAbstract.jsp
+public abstract class PureBitemporalOrderItemObjectFactoryAbstract extends MithraAbstractPureDatedObjectFactory implements MithraDatedTransactionalObjectFactory
+{
+	protected LoadOperationProvider loadOperationProvider = new DefaultLoadOperationProvider();
+	public List< Operation > getOperationsForFullCacheLoad()
+	{
+		return this.loadOperationProvider.getOperationsForFullCacheLoad(this.getFinder());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureBitemporalOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return PureBitemporalOrderItemFinder.getFinderInstance();
+	}
+
+	public static PureBitemporalOrderItemData allocateOnHeapData()
+	{
+		return new PureBitemporalOrderItemData.PureBitemporalOrderItemDataOnHeap();
+	}
+
+	public static PureBitemporalOrderItemData allocateOffHeapData()
+	{
+		return new PureBitemporalOrderItemData.PureBitemporalOrderItemDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new PureBitemporalOrderItemData.PureBitemporalOrderItemDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderItemFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderItemFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		PureBitemporalOrderItemData data = new PureBitemporalOrderItemData.PureBitemporalOrderItemDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderItemFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderItemFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureBitemporalOrderItemData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.PureBitemporalOrderItem", PureBitemporalOrderItemFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("PureBitemporalOrderItem"));
+			PureBitemporalOrderItemData.PureBitemporalOrderItemDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(PureBitemporalOrderItemFinder.getPrimaryKeyAttributes(), PureBitemporalOrderItemFinder.getAsOfAttributes(), this, PureBitemporalOrderItemFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(PureBitemporalOrderItemFinder.getPrimaryKeyAttributes(), PureBitemporalOrderItemFinder.getAsOfAttributes(), this, PureBitemporalOrderItemFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(PureBitemporalOrderItemFinder.getPrimaryKeyAttributes(), PureBitemporalOrderItemFinder.getAsOfAttributes(), this, PureBitemporalOrderItemFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(PureBitemporalOrderItemFinder.getPrimaryKeyAttributes(), PureBitemporalOrderItemFinder.getAsOfAttributes(), this, PureBitemporalOrderItemFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(PureBitemporalOrderItemFinder.getPrimaryKeyAttributes(), PureBitemporalOrderItemFinder.getAsOfAttributes(), this, PureBitemporalOrderItemFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureBitemporalOrderItemData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.PureBitemporalOrderItem", PureBitemporalOrderItemFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			PureBitemporalOrderItemData.PureBitemporalOrderItemDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(PureBitemporalOrderItemFinder.getPrimaryKeyAttributes(), PureBitemporalOrderItemFinder.getAsOfAttributes(), this, PureBitemporalOrderItemFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(PureBitemporalOrderItemFinder.getPrimaryKeyAttributes(), PureBitemporalOrderItemFinder.getAsOfAttributes(), this, PureBitemporalOrderItemFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			PureBitemporalOrderItemFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			PureBitemporalOrderItemFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			PureBitemporalOrderItem.zConfigFullTx();
+		}
+		else
+		{
+			PureBitemporalOrderItem.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		PureBitemporalOrderItem newObject = new PureBitemporalOrderItem(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromPureBitemporalOrderItemData((PureBitemporalOrderItemData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(PureBitemporalOrderItemFinder.getMithraObjectPortal(),
+			PureBitemporalOrderItemFinder.processingDate())
+		,PureBitemporalOrderItemFinder.businessDate());
+	}
+}
@@ -0,0 +1,189 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.BiTemporalTransactionalDataContainer;
+import com.gs.fw.common.mithra.behavior.TemporalContainer;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.portal.MithraAbstractPureDatedObjectFactory;
+import com.gs.fw.common.mithra.attribute.SingleColumnAttribute;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/ObjectFactoryAbstract.jsp
+public abstract class PureBitemporalOrderObjectFactoryAbstract extends MithraAbstractPureDatedObjectFactory implements MithraDatedTransactionalObjectFactory
+{
+	protected LoadOperationProvider loadOperationProvider = new DefaultLoadOperationProvider();
+	public List< Operation > getOperationsForFullCacheLoad()
+	{
+		return this.loadOperationProvider.getOperationsForFullCacheLoad(this.getFinder());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureBitemporalOrderFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return PureBitemporalOrderFinder.getFinderInstance();
+	}
+
+	public static PureBitemporalOrderData allocateOnHeapData()
+	{
+		return new PureBitemporalOrderData.PureBitemporalOrderDataOnHeap();
+	}
+
+	public static PureBitemporalOrderData allocateOffHeapData()
+	{
+		return new PureBitemporalOrderData.PureBitemporalOrderDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new PureBitemporalOrderData.PureBitemporalOrderDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		PureBitemporalOrderData data = new PureBitemporalOrderData.PureBitemporalOrderDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureBitemporalOrderFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureBitemporalOrderData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.PureBitemporalOrder", PureBitemporalOrderFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("PureBitemporalOrder"));
+			PureBitemporalOrderData.PureBitemporalOrderDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(PureBitemporalOrderFinder.getPrimaryKeyAttributes(), PureBitemporalOrderFinder.getAsOfAttributes(), this, PureBitemporalOrderFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(PureBitemporalOrderFinder.getPrimaryKeyAttributes(), PureBitemporalOrderFinder.getAsOfAttributes(), this, PureBitemporalOrderFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(PureBitemporalOrderFinder.getPrimaryKeyAttributes(), PureBitemporalOrderFinder.getAsOfAttributes(), this, PureBitemporalOrderFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(PureBitemporalOrderFinder.getPrimaryKeyAttributes(), PureBitemporalOrderFinder.getAsOfAttributes(), this, PureBitemporalOrderFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(PureBitemporalOrderFinder.getPrimaryKeyAttributes(), PureBitemporalOrderFinder.getAsOfAttributes(), this, PureBitemporalOrderFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureBitemporalOrderData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.PureBitemporalOrder", PureBitemporalOrderFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			PureBitemporalOrderData.PureBitemporalOrderDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(PureBitemporalOrderFinder.getPrimaryKeyAttributes(), PureBitemporalOrderFinder.getAsOfAttributes(), this, PureBitemporalOrderFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(PureBitemporalOrderFinder.getPrimaryKeyAttributes(), PureBitemporalOrderFinder.getAsOfAttributes(), this, PureBitemporalOrderFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			PureBitemporalOrderFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			PureBitemporalOrderFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			PureBitemporalOrder.zConfigFullTx();
+		}
+		else
+		{
+			PureBitemporalOrder.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		PureBitemporalOrder newObject = new PureBitemporalOrder(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromPureBitemporalOrderData((PureBitemporalOrderData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(PureBitemporalOrderFinder.getMithraObjectPortal(),
+			PureBitemporalOrderFinder.processingDate())
+		,PureBitemporalOrderFinder.businessDate());
+	}
+}
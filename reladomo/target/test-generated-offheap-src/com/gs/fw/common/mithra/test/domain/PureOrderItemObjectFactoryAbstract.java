@@ -0,0 +1,139 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.portal.MithraAbstractPureObjectFactory;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class PureOrderItemObjectFactoryAbstract extends MithraAbstractPureObjectFactory implements MithraObjectFactory
+{
+	protected LoadOperationProvider loadOperationProvider = new DefaultLoadOperationProvider();
+	public List< Operation > getOperationsForFullCacheLoad()
+	{
+		return this.loadOperationProvider.getOperationsForFullCacheLoad(this.getFinder());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return PureOrderItemFinder.getFinderInstance();
+	}
+
+	public static PureOrderItemData allocateOnHeapData()
+	{
+		return new PureOrderItemData();
+	}
+
+	public static PureOrderItemData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new PureOrderItemData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		PureOrderItemData data = new PureOrderItemData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(PureOrderItemFinder.getPrimaryKeyAttributes(), this, PureOrderItemFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(PureOrderItemFinder.getPrimaryKeyAttributes(), this, PureOrderItemFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(PureOrderItemFinder.getPrimaryKeyAttributes(), this, PureOrderItemFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(PureOrderItemFinder.getPrimaryKeyAttributes(), this, PureOrderItemFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			PureOrderItemFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			PureOrderItemFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			PureOrderItem.zConfigFullTx();
+		}
+		else
+		{
+			PureOrderItem.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		PureOrderItem newObject = new PureOrderItem();
+		newObject.zSetFromPureOrderItemData((PureOrderItemData) newData);
+		return newObject;
+	}
+}
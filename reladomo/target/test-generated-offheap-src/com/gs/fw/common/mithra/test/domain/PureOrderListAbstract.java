@@ -0,0 +1,186 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PureOrderListAbstract extends DelegatingList<PureOrder> implements MithraTransactionalList<PureOrder>
+{
+	public PureOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PureOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PureOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PureOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PureOrder[] elements()
+	{
+		PureOrder[] result = new PureOrder[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PureOrderList intersection(PureOrderList another)
+	{
+		return (PureOrderList)super.intersection(another);
+	}
+
+	public PureOrder getPureOrderAt(int index)
+	{
+		return (PureOrder)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PureOrderItem.orderId = this.orderId</pre>
+	* @see PureOrderItem#getOrder() reverse relationship PureOrderItem.getOrder()
+	* @return items
+	*/
+	public PureOrderItemList getItems()
+	{
+		return (PureOrderItemList) this.zGetDelegated().resolveRelationship(this, PureOrderFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Order.orderId = this.orderId</pre>
+	* @return The real order
+	*/
+	public OrderList getRealOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, PureOrderFinder.realOrder());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureOrderFinder.getMithraObjectPortal();
+	}
+
+	public PureOrderList getNonPersistentCopy()
+	{
+		PureOrderList result = new PureOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PureOrderList asAdhoc()
+	{
+		return (PureOrderList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<PureOrder> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public PureOrderList merge(MithraTransactionalList<PureOrder> incoming, TopLevelMergeOptions<PureOrder> mergeOptions)
+	{
+		return (PureOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public PureOrderList getDetachedCopy()
+	{
+		PureOrderList result = new PureOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(PureOrderFinder.orderId(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(PureOrderFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(PureOrderFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(PureOrderFinder.description(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(PureOrderFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(PureOrderFinder.trackingId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(PureOrderFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getItems()).cascadeDeleteAll();
+	}
+}
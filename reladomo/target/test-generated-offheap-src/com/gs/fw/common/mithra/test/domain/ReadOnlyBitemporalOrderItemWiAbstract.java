@@ -0,0 +1,52 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyBitemporalOrderItemWiAbstract
+{
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp newValue);
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp newValue);
+	boolean isBusinessDateToNull();
+	double getDiscountPrice();
+	void setDiscountPrice(double newValue);
+	boolean isDiscountPriceNull();
+	int getId();
+	void setId(int newValue);
+	boolean isIdNull();
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	double getOriginalPrice();
+	void setOriginalPrice(double newValue);
+	boolean isOriginalPriceNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp newValue);
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp newValue);
+	boolean isProcessingDateToNull();
+	int getProductId();
+	void setProductId(int newValue);
+	boolean isProductIdNull();
+	double getQuantity();
+	void setQuantity(double newValue);
+	boolean isQuantityNull();
+	String getState();
+	void setState(String newValue);
+	boolean isStateNull();
+	void setOrderIdNull();
+	void setProductIdNull();
+	void setQuantityNull();
+	void setOriginalPriceNull();
+	void setDiscountPriceNull();
+	public ReadOnlyBitemporalOrderWi getOrder();
+	Timestamp getBusinessDate();
+	Timestamp getProcessingDate();
+}
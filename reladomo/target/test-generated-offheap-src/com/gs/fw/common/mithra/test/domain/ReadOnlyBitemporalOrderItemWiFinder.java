@@ -0,0 +1,928 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReadOnlyBitemporalOrderItemWiFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ReadOnlyBitemporalOrderItemWiImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ReadOnlyBitemporalOrderItemWi";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ReadOnlyBitemporalOrderItemWi");
+	private static final ReadOnlyBitemporalOrderItemWiSingleFinder<ReadOnlyBitemporalOrderItemWi, Object, ReadOnlyBitemporalOrderItemWi> finder = new ReadOnlyBitemporalOrderItemWiSingleFinder<ReadOnlyBitemporalOrderItemWi, Object, ReadOnlyBitemporalOrderItemWi>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ReadOnlyBitemporalOrderItemWiFinder.ReadOnlyBitemporalOrderItemWiRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("originalPrice");
+		finderMethodMap.addNormalAttributeName("discountPrice");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("order");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ReadOnlyBitemporalOrderItemWi findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ReadOnlyBitemporalOrderItemWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ReadOnlyBitemporalOrderItemWiList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyBitemporalOrderItemWiListImpl) finder.findMany(operation);
+	}
+
+	public static ReadOnlyBitemporalOrderItemWiList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyBitemporalOrderItemWiListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static ReadOnlyBitemporalOrderItemWi findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ReadOnlyBitemporalOrderItemWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static ReadOnlyBitemporalOrderItemWi findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ReadOnlyBitemporalOrderItemWiData _castedTargetData = (ReadOnlyBitemporalOrderItemWiData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return ReadOnlyBitemporalOrderItemWiFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && ReadOnlyBitemporalOrderItemWiFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ReadOnlyBitemporalOrderItemWiImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ReadOnlyBitemporalOrderItemWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ReadOnlyBitemporalOrderItemWiRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ReadOnlyBitemporalOrderItemWi, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> originalPrice;
+		private DoubleAttribute<ParentOwnerType> discountPrice;
+		private StringAttribute<ParentOwnerType> state;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private ReadOnlyBitemporalOrderItemWiOrderFinderSubclass<ParentOwnerType> order;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ReadOnlyBitemporalOrderItemWiRelatedFinder()
+		{
+			super();
+		}
+
+		public ReadOnlyBitemporalOrderItemWiRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ReadOnlyBitemporalOrderItemWiFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ReadOnlyBitemporalOrderItemWiFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ReadOnlyBitemporalOrderItemWiFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ReadOnlyBitemporalOrderItemWiFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[11];
+			attributes[0] = this.id();
+			attributes[1] = this.orderId();
+			attributes[2] = this.productId();
+			attributes[3] = this.quantity();
+			attributes[4] = this.originalPrice();
+			attributes[5] = this.discountPrice();
+			attributes[6] = this.state();
+			attributes[7] = this.processingDateFrom();
+			attributes[8] = this.processingDateTo();
+			attributes[9] = this.businessDateFrom();
+			attributes[10] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.order());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ReadOnlyBitemporalOrderItemWi findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyBitemporalOrderItemWiFinder.findOne(operation, false);
+		}
+
+		public ReadOnlyBitemporalOrderItemWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyBitemporalOrderItemWiFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ReadOnlyBitemporalOrderItemWi> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ReadOnlyBitemporalOrderItemWiListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends ReadOnlyBitemporalOrderItemWi> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ReadOnlyBitemporalOrderItemWiListImpl result = (ReadOnlyBitemporalOrderItemWiListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ReadOnlyBitemporalOrderItemWi> constructEmptyList()
+		{
+			return new ReadOnlyBitemporalOrderItemWiListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 142489648;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReadOnlyBitemporalOrderItemWiFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,36,4,1,false, false) :
+					new MappedIntegerAttribute(ReadOnlyBitemporalOrderItemWiFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ReadOnlyBitemporalOrderWi", "items");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,64,4,3,false, false) :
+					new MappedIntegerAttribute(ReadOnlyBitemporalOrderItemWiFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,68,4,4, false) :
+					new MappedDoubleAttribute(ReadOnlyBitemporalOrderItemWiFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> originalPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.originalPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ORIGINAL_PRICE","","originalPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,40,4,2, false) :
+					new MappedDoubleAttribute(ReadOnlyBitemporalOrderItemWiFinder.originalPrice(), this.mapper, this.zGetValueSelector());
+				this.originalPrice = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> discountPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.discountPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DISCOUNT_PRICE","","discountPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,28,4,0, false) :
+					new MappedDoubleAttribute(ReadOnlyBitemporalOrderItemWiFinder.discountPrice(), this.mapper, this.zGetValueSelector());
+				this.discountPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,76,-1,-1,20,true, false) :
+					new MappedStringAttribute(ReadOnlyBitemporalOrderItemWiFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,ReadOnlyBitemporalOrderItemWiFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyBitemporalOrderItemWiFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,56,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,ReadOnlyBitemporalOrderItemWiFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyBitemporalOrderItemWiFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,ReadOnlyBitemporalOrderItemWiFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyBitemporalOrderItemWiFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,ReadOnlyBitemporalOrderItemWiFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyBitemporalOrderItemWiFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),ReadOnlyBitemporalOrderItemWiFinder.businessDateInfinity,false,false,ReadOnlyBitemporalOrderItemWiFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(ReadOnlyBitemporalOrderItemWiFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),ReadOnlyBitemporalOrderItemWiFinder.processingDateInfinity,false,false,ReadOnlyBitemporalOrderItemWiFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ReadOnlyBitemporalOrderItemWiFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderWi, ReadOnlyBitemporalOrderItemWi> order()
+		{
+			ReadOnlyBitemporalOrderItemWiOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyBitemporalOrderWiFinder.zGetReadOnlyBitemporalOrderWiItemsMapper());
+				newMapper.setToMany(false);
+				result = new ReadOnlyBitemporalOrderItemWiOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ReadOnlyBitemporalOrderItemWiFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ReadOnlyBitemporalOrderItemWiFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ReadOnlyBitemporalOrderItemWiCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ReadOnlyBitemporalOrderItemWiRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyBitemporalOrderItemWiList, OwnerType>
+	{
+		public ReadOnlyBitemporalOrderItemWiCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ReadOnlyBitemporalOrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ReadOnlyBitemporalOrderItemWiCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyBitemporalOrderItemWiCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ReadOnlyBitemporalOrderItemWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyBitemporalOrderItemWiRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyBitemporalOrderItemWiList, OwnerType>
+	implements ToOneFinder
+	{
+		public ReadOnlyBitemporalOrderItemWiSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ReadOnlyBitemporalOrderItemWiSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ReadOnlyBitemporalOrderItemWi other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ReadOnlyBitemporalOrderItemWi findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+		{
+			ReadOnlyBitemporalOrderItemWi _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ReadOnlyBitemporalOrderItemWi) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ReadOnlyBitemporalOrderItemWiSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyBitemporalOrderItemWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyBitemporalOrderItemWiSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.ID **/
+	public static IntegerAttribute<ReadOnlyBitemporalOrderItemWi> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.ORDER_ID **/
+	public static IntegerAttribute<ReadOnlyBitemporalOrderItemWi> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.PRODUCT_ID **/
+	public static IntegerAttribute<ReadOnlyBitemporalOrderItemWi> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.QUANTITY **/
+	public static DoubleAttribute<ReadOnlyBitemporalOrderItemWi> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.ORIGINAL_PRICE **/
+	public static DoubleAttribute<ReadOnlyBitemporalOrderItemWi> originalPrice()
+	{
+		return finder.originalPrice();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.DISCOUNT_PRICE **/
+	public static DoubleAttribute<ReadOnlyBitemporalOrderItemWi> discountPrice()
+	{
+		return finder.discountPrice();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI."STATE" **/
+	public static StringAttribute<ReadOnlyBitemporalOrderItemWi> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.IN_Z **/
+	public static TimestampAttribute<ReadOnlyBitemporalOrderItemWi> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.OUT_Z **/
+	public static TimestampAttribute<ReadOnlyBitemporalOrderItemWi> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.FROM_Z **/
+	public static TimestampAttribute<ReadOnlyBitemporalOrderItemWi> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_ITEM_WI.THRU_Z **/
+	public static TimestampAttribute<ReadOnlyBitemporalOrderItemWi> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<ReadOnlyBitemporalOrderItemWi> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<ReadOnlyBitemporalOrderItemWi> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<ReadOnlyBitemporalOrderItemWi, ReadOnlyBitemporalOrderWi, ReadOnlyBitemporalOrderItemWi> order()
+	{
+		return finder.order();
+	}
+
+	public static class ReadOnlyBitemporalOrderItemWiOrderFinderSubclass<ParentOwnerType> extends ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderWi, ReadOnlyBitemporalOrderItemWi>
+	{
+		public ReadOnlyBitemporalOrderItemWiOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ReadOnlyBitemporalOrderWiFinder.orderId(),
+				ReadOnlyBitemporalOrderWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderWiFinder.processingDate()).withExtractors(
+				ReadOnlyBitemporalOrderItemWiFinder.orderId(),
+				ReadOnlyBitemporalOrderItemWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderItemWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyBitemporalOrderItemWiOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ReadOnlyBitemporalOrderWi plainValueOf(ReadOnlyBitemporalOrderItemWi _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected ReadOnlyBitemporalOrderWiList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyBitemporalOrderItemWiList)_obj).getOrders();
+		}
+	}
+
+	public static Operation eq(ReadOnlyBitemporalOrderItemWi other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ReadOnlyBitemporalOrderItemWiSingleFinder<ReadOnlyBitemporalOrderItemWi, Object, ReadOnlyBitemporalOrderItemWi> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[3];
+		result[0] = quantity();
+		result[1] = originalPrice();
+		result[2] = discountPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ReadOnlyBitemporalOrderItemWi");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
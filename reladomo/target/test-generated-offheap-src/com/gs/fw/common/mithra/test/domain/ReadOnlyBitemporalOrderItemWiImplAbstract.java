@@ -0,0 +1,663 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class ReadOnlyBitemporalOrderItemWiImplAbstract
+implements MithraDatedObject, Serializable
+{
+	protected ReadOnlyBitemporalOrderItemWiData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp businessDate;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = ReadOnlyBitemporalOrderWiFinder.businessDate();
+		private AsOfAttribute processingDate = ReadOnlyBitemporalOrderWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyBitemporalOrderItemWiImpl _castedSrcObject = (ReadOnlyBitemporalOrderItemWiImpl) _srcObject;
+			ReadOnlyBitemporalOrderItemWiData _castedSrcData = (ReadOnlyBitemporalOrderItemWiData) _srcData;
+			ReadOnlyBitemporalOrderWiData _castedTargetData = (ReadOnlyBitemporalOrderWiData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyBitemporalOrderItemWiData _castedSrcData = (ReadOnlyBitemporalOrderItemWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public ReadOnlyBitemporalOrderItemWiImplAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, ReadOnlyBitemporalOrderItemWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ReadOnlyBitemporalOrderItemWiFinder.isFullCache());
+	}
+
+	public ReadOnlyBitemporalOrderItemWiImplAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromReadOnlyBitemporalOrderItemWiData( ReadOnlyBitemporalOrderItemWiData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromReadOnlyBitemporalOrderItemWiData( ReadOnlyBitemporalOrderItemWiData data )
+	{
+		this.setFromReadOnlyBitemporalOrderItemWiData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromReadOnlyBitemporalOrderItemWiData( (ReadOnlyBitemporalOrderItemWiData) data );
+	}
+
+	public ReadOnlyBitemporalOrderItemWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		ReadOnlyBitemporalOrderItemWiImplAbstract copy = (ReadOnlyBitemporalOrderItemWiImplAbstract)
+		ReadOnlyBitemporalOrderItemWiFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ReadOnlyBitemporalOrderItemWiImpl)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ReadOnlyBitemporalOrderItemWiData data = (ReadOnlyBitemporalOrderItemWiData) ReadOnlyBitemporalOrderItemWiFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ReadOnlyBitemporalOrderItemWi has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return ReadOnlyBitemporalOrderItemWiFinder.getMithraObjectPortal().getCache();
+	}
+
+	public ReadOnlyBitemporalOrderItemWiData zGetCurrentDataWithCheck()
+	{
+		ReadOnlyBitemporalOrderItemWiData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private ReadOnlyBitemporalOrderItemWiData zRefreshData(ReadOnlyBitemporalOrderItemWiData current)
+	{
+		ReadOnlyBitemporalOrderItemWiData newData = (ReadOnlyBitemporalOrderItemWiData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("ReadOnlyBitemporalOrderItemWi has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(ReadOnlyBitemporalOrderItemWiData current)
+	{
+		boolean refresh = !ReadOnlyBitemporalOrderItemWiFinder.businessDate().dataMatches(current, businessDate);
+		if (!refresh)
+		{
+			refresh = !ReadOnlyBitemporalOrderItemWiFinder.processingDate().dataMatches(current, processingDate);
+		}
+
+		return refresh;
+	}
+
+	private ReadOnlyBitemporalOrderItemWiData zGetOrInitializeInMemoryData()
+	{
+		ReadOnlyBitemporalOrderItemWiData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new ReadOnlyBitemporalOrderItemWiData.ReadOnlyBitemporalOrderItemWiDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		ReadOnlyBitemporalOrderItemWiData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			ReadOnlyBitemporalOrderItemWiData newData = (ReadOnlyBitemporalOrderItemWiData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateFromNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateFrom(newValue);
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateToNull();
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateTo(newValue);
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDiscountPriceNull();
+	}
+
+	public double getDiscountPrice()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		if (data.isDiscountPriceNull())
+		MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDiscountPrice(newValue);
+	}
+
+	public boolean isIdNull()
+	{
+		return this.currentData.isIdNull();
+	}
+
+	public int getId()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.currentData;
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setId(newValue);
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		if (data.isOrderIdNull())
+		MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setOrderId(newValue);
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return this.zGetCurrentDataWithCheck().isOriginalPriceNull();
+	}
+
+	public double getOriginalPrice()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		if (data.isOriginalPriceNull())
+		MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setOriginalPrice(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		if (data.isProductIdNull())
+		MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProductId(newValue);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zGetCurrentDataWithCheck().isQuantityNull();
+	}
+
+	public double getQuantity()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		if (data.isQuantityNull())
+		MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setQuantity(newValue);
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isStateNull();
+	}
+
+	public String getState()
+	{
+		ReadOnlyBitemporalOrderItemWiData data = this.zGetCurrentDataWithCheck();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setState(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setOrderIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setOrderIdNull();
+	}
+
+	public void setProductIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProductIdNull();
+	}
+
+	public void setQuantityNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setQuantityNull();
+	}
+
+	public void setOriginalPriceNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setOriginalPriceNull();
+	}
+
+	public void setDiscountPriceNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDiscountPriceNull();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyBitemporalOrderWi.orderId</pre>
+	* @see ReadOnlyBitemporalOrderWi#getItems() reverse relationship ReadOnlyBitemporalOrderWi.getItems()
+	* @return The order
+	*/
+	public ReadOnlyBitemporalOrderWi getOrder()
+	{
+		ReadOnlyBitemporalOrderItemWiData _data = ((ReadOnlyBitemporalOrderItemWiData)this.zGetCurrentDataWithCheck());
+		ReadOnlyBitemporalOrderWiImpl _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (ReadOnlyBitemporalOrderWiImpl) _data.getOrder();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isOrderIdNull())
+			{
+				_portal = ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyBitemporalOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ReadOnlyBitemporalOrderItemWiFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = ReadOnlyBitemporalOrderWiFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setOrder(ReadOnlyBitemporalOrderWi order)
+	{
+		this.ensureSetAttributeAllowed();
+		ReadOnlyBitemporalOrderItemWiData _data = this.zGetCurrentDataWithCheck();
+		_data.setOrder(order);
+		if (order == null)
+		{
+			this.setOrderIdNull();
+		}
+		else
+		{
+			this.setOrderId(
+				order.getOrderId());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ReadOnlyBitemporalOrderItemWiData data = ((ReadOnlyBitemporalOrderItemWiData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ReadOnlyBitemporalOrderItemWiData data = ((ReadOnlyBitemporalOrderItemWiData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new ReadOnlyBitemporalOrderItemWiData.ReadOnlyBitemporalOrderItemWiDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ReadOnlyBitemporalOrderItemWiFinder.isFullCache());
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ReadOnlyBitemporalOrderItemWiFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ReadOnlyBitemporalOrderItemWiFinder.businessDate().eq(businessDate);
+			op = op.and(ReadOnlyBitemporalOrderItemWiFinder.processingDate().eq(processingDate));
+			op = op.and(ReadOnlyBitemporalOrderItemWiFinder.id().eq(currentData.getId()));
+			return ReadOnlyBitemporalOrderItemWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ReadOnlyBitemporalOrderItemWiData localData = (ReadOnlyBitemporalOrderItemWiData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReadOnlyBitemporalOrderItemWiFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,44 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyBitemporalOrderStatusWiAbstract
+{
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp newValue);
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp newValue);
+	boolean isBusinessDateToNull();
+	Timestamp getLastUpdateTime();
+	void setLastUpdateTime(Timestamp newValue);
+	boolean isLastUpdateTimeNull();
+	void setLastUpdateTimeUntil(Timestamp newValue, Timestamp exclusiveUntil);
+	String getLastUser();
+	void setLastUser(String newValue);
+	boolean isLastUserNull();
+	void setLastUserUntil(String newValue, Timestamp exclusiveUntil);
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	void setOrderIdUntil(int newValue, Timestamp exclusiveUntil);
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp newValue);
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp newValue);
+	boolean isProcessingDateToNull();
+	int getStatus();
+	void setStatus(int newValue);
+	boolean isStatusNull();
+	void setStatusUntil(int newValue, Timestamp exclusiveUntil);
+	void setStatusNull();
+	public ReadOnlyBitemporalOrderWi getOrder();
+	void setOrder(ReadOnlyBitemporalOrderWi order);
+	Timestamp getBusinessDate();
+	Timestamp getProcessingDate();
+}
@@ -0,0 +1,750 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ReadOnlyBitemporalOrderStatusWiImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		ReadOnlyBitemporalOrderStatusWiFinder.businessDate()
+	,
+		ReadOnlyBitemporalOrderStatusWiFinder.processingDate()
+	, ReadOnlyBitemporalOrderStatusWiFinder.zGetDoubleAttributes(),ReadOnlyBitemporalOrderStatusWiFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ReadOnlyBitemporalOrderStatusWi.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = ReadOnlyBitemporalOrderWiFinder.businessDate();
+		private AsOfAttribute processingDate = ReadOnlyBitemporalOrderWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyBitemporalOrderStatusWiImpl _castedSrcObject = (ReadOnlyBitemporalOrderStatusWiImpl) _srcObject;
+			ReadOnlyBitemporalOrderStatusWiData _castedSrcData = (ReadOnlyBitemporalOrderStatusWiData) _srcData;
+			ReadOnlyBitemporalOrderWiData _castedTargetData = (ReadOnlyBitemporalOrderWiData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyBitemporalOrderStatusWiData _castedSrcData = (ReadOnlyBitemporalOrderStatusWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImplAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, ReadOnlyBitemporalOrderStatusWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ReadOnlyBitemporalOrderStatusWiFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImplAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiData zSynchronizedGetData()
+	{
+		return (ReadOnlyBitemporalOrderStatusWiData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ReadOnlyBitemporalOrderStatusWiFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !ReadOnlyBitemporalOrderStatusWiFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ReadOnlyBitemporalOrderStatusWiImpl original = (ReadOnlyBitemporalOrderStatusWiImpl) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (ReadOnlyBitemporalOrderStatusWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (ReadOnlyBitemporalOrderStatusWiImpl) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			ReadOnlyBitemporalOrderStatusWiFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		ReadOnlyBitemporalOrderStatusWiImplAbstract result = (ReadOnlyBitemporalOrderStatusWiImplAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ReadOnlyBitemporalOrderStatusWiImpl ) result;
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl zFindOriginal()
+	{
+		ReadOnlyBitemporalOrderStatusWiData data = (ReadOnlyBitemporalOrderStatusWiData) this.currentData;
+		Operation op;
+		op = ReadOnlyBitemporalOrderStatusWiFinder.orderId().eq(data.getOrderId());
+		op = op.and(ReadOnlyBitemporalOrderStatusWiFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(ReadOnlyBitemporalOrderStatusWiFinder.processingDate().eq(this.getProcessingDate()));
+		return (ReadOnlyBitemporalOrderStatusWiImpl) ReadOnlyBitemporalOrderStatusWiFinder.findOne(op);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		ReadOnlyBitemporalOrderStatusWiImplAbstract result = (ReadOnlyBitemporalOrderStatusWiImplAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ReadOnlyBitemporalOrderStatusWiImpl ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (ReadOnlyBitemporalOrderStatusWiImpl) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ReadOnlyBitemporalOrderStatusWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ReadOnlyBitemporalOrderStatusWiData data = (ReadOnlyBitemporalOrderStatusWiData) this.currentData;
+			Operation op = ReadOnlyBitemporalOrderStatusWiFinder.businessDate().eq(this.businessDate);
+			op = op.and(ReadOnlyBitemporalOrderStatusWiFinder.processingDate().eq(this.processingDate));
+			op = op.and(ReadOnlyBitemporalOrderStatusWiFinder.orderId().eq(data.getOrderId()));
+			return ReadOnlyBitemporalOrderStatusWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		ReadOnlyBitemporalOrderStatusWiData data = (ReadOnlyBitemporalOrderStatusWiData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && ReadOnlyBitemporalOrderStatusWiFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		ReadOnlyBitemporalOrderStatusWiData data = (ReadOnlyBitemporalOrderStatusWiData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return this.zSynchronizedGetData().isLastUpdateTimeNull();
+	}
+
+	public boolean isLastUserNull()
+	{
+		return this.zSynchronizedGetData().isLastUserNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStatusNull()
+	{
+		return this.zSynchronizedGetData().isStatusNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.businessDateTo(), newValue, false );
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		return this.zSynchronizedGetData().getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.lastUpdateTime(), newValue, false );
+	}
+
+	public void setLastUpdateTimeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.lastUpdateTime(), newValue, false , exclusiveUntil);
+	}
+
+	public String getLastUser()
+	{
+		return this.zSynchronizedGetData().getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(ReadOnlyBitemporalOrderStatusWiFinder.lastUser(), newValue, false );
+	}
+
+	public void setLastUserUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(ReadOnlyBitemporalOrderStatusWiFinder.lastUser(), newValue, false , exclusiveUntil);
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(ReadOnlyBitemporalOrderStatusWiFinder.orderId(), newValue, true ,false);
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(ReadOnlyBitemporalOrderStatusWiFinder.orderId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getStatus()
+	{
+		ReadOnlyBitemporalOrderStatusWiData data = this.zSynchronizedGetData();
+		if (data.isStatusNull()) MithraNullPrimitiveException.throwNew("status", data);
+		return data.getStatus();
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(ReadOnlyBitemporalOrderStatusWiFinder.status(), newValue, false ,true);
+	}
+
+	public void setStatusUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(ReadOnlyBitemporalOrderStatusWiFinder.status(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, ReadOnlyBitemporalOrderStatusWiFinder.status(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		ReadOnlyBitemporalOrderStatusWiData data2 = (ReadOnlyBitemporalOrderStatusWiData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && ReadOnlyBitemporalOrderStatusWiFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setStatusNull()
+	{
+		zNullify(ReadOnlyBitemporalOrderStatusWiFinder.status(), false);
+	}
+
+	public void setStatusNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(ReadOnlyBitemporalOrderStatusWiFinder.status(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ReadOnlyBitemporalOrderStatusWiData _newData = (ReadOnlyBitemporalOrderStatusWiData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ReadOnlyBitemporalOrderStatusWiData _newData = (ReadOnlyBitemporalOrderStatusWiData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ReadOnlyBitemporalOrderStatusWiData _newData = (ReadOnlyBitemporalOrderStatusWiData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyBitemporalOrderWi.orderId</pre>
+	* @see ReadOnlyBitemporalOrderWi#getOrderStatus() reverse relationship ReadOnlyBitemporalOrderWi.getOrderStatus()
+	* @return The order
+	*/
+	public ReadOnlyBitemporalOrderWi getOrder()
+	{
+		ReadOnlyBitemporalOrderWiImpl _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ReadOnlyBitemporalOrderStatusWiData _data = (ReadOnlyBitemporalOrderStatusWiData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyBitemporalOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ReadOnlyBitemporalOrderStatusWiFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ReadOnlyBitemporalOrderWiImpl) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ReadOnlyBitemporalOrderStatusWiFinder.order().zGetRelationshipMultiExtractor(), this);
+					_result = ReadOnlyBitemporalOrderWiFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ReadOnlyBitemporalOrderWiImpl) _data.getOrder();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ReadOnlyBitemporalOrderStatusWiFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ReadOnlyBitemporalOrderWiFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(ReadOnlyBitemporalOrderWi order)
+	{
+		((ReadOnlyBitemporalOrderWiImpl)order).setOrderStatus((ReadOnlyBitemporalOrderStatusWi)this);
+	}
+
+	public void zSetParentContainerorder(ReadOnlyBitemporalOrderWiImplAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ReadOnlyBitemporalOrderStatusWiData _data = (ReadOnlyBitemporalOrderStatusWiData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return ReadOnlyBitemporalOrderStatusWiFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ReadOnlyBitemporalOrderStatusWiData.ReadOnlyBitemporalOrderStatusWiDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ReadOnlyBitemporalOrderStatusWiData data = (ReadOnlyBitemporalOrderStatusWiData) ReadOnlyBitemporalOrderStatusWiFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ReadOnlyBitemporalOrderStatusWi has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromReadOnlyBitemporalOrderStatusWiData( ReadOnlyBitemporalOrderStatusWiData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromReadOnlyBitemporalOrderStatusWiData( ReadOnlyBitemporalOrderStatusWiData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ReadOnlyBitemporalOrderStatusWiFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReadOnlyBitemporalOrderStatusWiFinder.getMithraObjectPortal();
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ReadOnlyBitemporalOrderStatusWiImplAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ReadOnlyBitemporalOrderStatusWiImplAbstract from = (ReadOnlyBitemporalOrderStatusWiImplAbstract) f;
+		ReadOnlyBitemporalOrderStatusWiData newData = from.zSynchronizedGetData();
+		this.setLastUpdateTime(newData.getLastUpdateTime());
+		this.setLastUser(newData.getLastUser());
+		if (from.isStatusNull())
+		{
+			this.setStatusNull();
+		}
+		else
+		{
+			this.setStatus(newData.getStatus());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		ReadOnlyBitemporalOrderStatusWiData _newData = (ReadOnlyBitemporalOrderStatusWiData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		ReadOnlyBitemporalOrderStatusWiData _newData = (ReadOnlyBitemporalOrderStatusWiData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(ReadOnlyBitemporalOrderStatusWiImplAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		ReadOnlyBitemporalOrderStatusWiImplAbstract from = (ReadOnlyBitemporalOrderStatusWiImplAbstract)f;
+		ReadOnlyBitemporalOrderStatusWiData newData = from.zSynchronizedGetData();
+		this.setLastUpdateTimeUntil(newData.getLastUpdateTime(), exclusiveUntil);
+		this.setLastUserUntil(newData.getLastUser(), exclusiveUntil);
+		if (from.isStatusNull())
+		{
+			this.setStatusNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setStatusUntil(newData.getStatus(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ReadOnlyBitemporalOrderStatusWiData newData = (ReadOnlyBitemporalOrderStatusWiData) d;
+		ReadOnlyBitemporalOrderStatusWiData data = (ReadOnlyBitemporalOrderStatusWiData) nd;
+		if (ReadOnlyBitemporalOrderStatusWiFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, ReadOnlyBitemporalOrderStatusWiFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, ReadOnlyBitemporalOrderStatusWiFinder.lastUser(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ReadOnlyBitemporalOrderStatusWiFinder.orderId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ReadOnlyBitemporalOrderStatusWiFinder.status(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, ReadOnlyBitemporalOrderStatusWiFinder.lastUpdateTime(), false, until);
+		changed |= zUpdateString(behavior, data, newData, ReadOnlyBitemporalOrderStatusWiFinder.lastUser(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, ReadOnlyBitemporalOrderStatusWiFinder.orderId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, ReadOnlyBitemporalOrderStatusWiFinder.status(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ReadOnlyBitemporalOrderStatusWiData data = ((ReadOnlyBitemporalOrderStatusWiData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ReadOnlyBitemporalOrderStatusWiData data = ((ReadOnlyBitemporalOrderStatusWiData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ReadOnlyBitemporalOrderStatusWiData data = ((ReadOnlyBitemporalOrderStatusWiData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ReadOnlyBitemporalOrderStatusWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ReadOnlyBitemporalOrderStatusWiFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ReadOnlyBitemporalOrderStatusWiData localData = (ReadOnlyBitemporalOrderStatusWiData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,200 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ReadOnlyBitemporalOrderStatusWiListImplAbstract extends DelegatingList<ReadOnlyBitemporalOrderStatusWi> implements MithraDatedTransactionalList<ReadOnlyBitemporalOrderStatusWi>
+{
+	public ReadOnlyBitemporalOrderStatusWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWi[] elements()
+	{
+		ReadOnlyBitemporalOrderStatusWi[] result = new ReadOnlyBitemporalOrderStatusWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiListImpl intersection(ReadOnlyBitemporalOrderStatusWiListImpl another)
+	{
+		return (ReadOnlyBitemporalOrderStatusWiListImpl)super.intersection(another);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiImpl getReadOnlyBitemporalOrderStatusWiAt(int index)
+	{
+		return (ReadOnlyBitemporalOrderStatusWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyBitemporalOrderWi.orderId</pre>
+	* @see ReadOnlyBitemporalOrderWi#getOrderStatus() reverse relationship ReadOnlyBitemporalOrderWi.getOrderStatus()
+	* @return The order
+	*/
+	public ReadOnlyBitemporalOrderWiList getOrders()
+	{
+		return (ReadOnlyBitemporalOrderWiList) this.zGetDelegated().resolveRelationship(this, ReadOnlyBitemporalOrderStatusWiFinder.order());
+	}
+
+	public void zSetParentContainerorder(ReadOnlyBitemporalOrderWiImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ReadOnlyBitemporalOrderStatusWiImpl item = this.getReadOnlyBitemporalOrderStatusWiAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReadOnlyBitemporalOrderStatusWiFinder.getMithraObjectPortal();
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiListImpl getNonPersistentCopy()
+	{
+		ReadOnlyBitemporalOrderStatusWiListImpl result = new ReadOnlyBitemporalOrderStatusWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiListImpl asAdhoc()
+	{
+		return (ReadOnlyBitemporalOrderStatusWiListImpl) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ReadOnlyBitemporalOrderStatusWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiListImpl merge(MithraTransactionalList<ReadOnlyBitemporalOrderStatusWi> incoming, TopLevelMergeOptions<ReadOnlyBitemporalOrderStatusWi> mergeOptions)
+	{
+		return (ReadOnlyBitemporalOrderStatusWiListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public ReadOnlyBitemporalOrderStatusWiListImpl getDetachedCopy()
+	{
+		ReadOnlyBitemporalOrderStatusWiListImpl result = new ReadOnlyBitemporalOrderStatusWiListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(ReadOnlyBitemporalOrderStatusWiFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(ReadOnlyBitemporalOrderStatusWiFinder.status(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(ReadOnlyBitemporalOrderStatusWiFinder.lastUser(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ReadOnlyBitemporalOrderStatusWiFinder.businessDateTo(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(ReadOnlyBitemporalOrderStatusWiFinder.status());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1372 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReadOnlyBitemporalOrderWiFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ReadOnlyBitemporalOrderWiImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ReadOnlyBitemporalOrderWi";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ReadOnlyBitemporalOrderWi");
+	private static final ReadOnlyBitemporalOrderWiSingleFinder<ReadOnlyBitemporalOrderWi, Object, ReadOnlyBitemporalOrderWi> finder = new ReadOnlyBitemporalOrderWiSingleFinder<ReadOnlyBitemporalOrderWi, Object, ReadOnlyBitemporalOrderWi>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("orderStatus");
+		finderMethodMap.addRelationshipName("itemsWithoutInterface");
+		finderMethodMap.addRelationshipName("orderStatusWithoutInterface");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[24];
+			result[0] = ReadOnlyBitemporalOrderWiFinder.orderId().constructEqualityMapper(ReadOnlyBitemporalOrderItemWiFinder.orderId());
+			result[1] = ReadOnlyBitemporalOrderItemWiFinder.orderId().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.orderId());
+			result[2] = ReadOnlyBitemporalOrderWiFinder.businessDate().constructEqualityMapper(ReadOnlyBitemporalOrderItemWiFinder.businessDate());
+			result[3] = ReadOnlyBitemporalOrderItemWiFinder.businessDate().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.businessDate());
+			result[4] = ReadOnlyBitemporalOrderWiFinder.processingDate().constructEqualityMapper(ReadOnlyBitemporalOrderItemWiFinder.processingDate());
+			result[5] = ReadOnlyBitemporalOrderItemWiFinder.processingDate().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.processingDate());
+			result[6] = ReadOnlyBitemporalOrderWiFinder.orderId().constructEqualityMapper(ReadOnlyBitemporalOrderStatusWiFinder.orderId());
+			result[7] = ReadOnlyBitemporalOrderStatusWiFinder.orderId().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.orderId());
+			result[8] = ReadOnlyBitemporalOrderWiFinder.businessDate().constructEqualityMapper(ReadOnlyBitemporalOrderStatusWiFinder.businessDate());
+			result[9] = ReadOnlyBitemporalOrderStatusWiFinder.businessDate().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.businessDate());
+			result[10] = ReadOnlyBitemporalOrderWiFinder.processingDate().constructEqualityMapper(ReadOnlyBitemporalOrderStatusWiFinder.processingDate());
+			result[11] = ReadOnlyBitemporalOrderStatusWiFinder.processingDate().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.processingDate());
+			result[12] = ReadOnlyBitemporalOrderWiFinder.orderId().constructEqualityMapper(BitemporalOrderItemFinder.orderId());
+			result[13] = BitemporalOrderItemFinder.orderId().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.orderId());
+			result[14] = ReadOnlyBitemporalOrderWiFinder.businessDate().constructEqualityMapper(BitemporalOrderItemFinder.businessDate());
+			result[15] = BitemporalOrderItemFinder.businessDate().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.businessDate());
+			result[16] = ReadOnlyBitemporalOrderWiFinder.processingDate().constructEqualityMapper(BitemporalOrderItemFinder.processingDate());
+			result[17] = BitemporalOrderItemFinder.processingDate().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.processingDate());
+			result[18] = ReadOnlyBitemporalOrderWiFinder.orderId().constructEqualityMapper(BitemporalOrderStatusFinder.orderId());
+			result[19] = BitemporalOrderStatusFinder.orderId().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.orderId());
+			result[20] = ReadOnlyBitemporalOrderWiFinder.businessDate().constructEqualityMapper(BitemporalOrderStatusFinder.businessDate());
+			result[21] = BitemporalOrderStatusFinder.businessDate().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.businessDate());
+			result[22] = ReadOnlyBitemporalOrderWiFinder.processingDate().constructEqualityMapper(BitemporalOrderStatusFinder.processingDate());
+			result[23] = BitemporalOrderStatusFinder.processingDate().constructEqualityMapper(ReadOnlyBitemporalOrderWiFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ReadOnlyBitemporalOrderWi findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ReadOnlyBitemporalOrderWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ReadOnlyBitemporalOrderWiList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyBitemporalOrderWiListImpl) finder.findMany(operation);
+	}
+
+	public static ReadOnlyBitemporalOrderWiList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyBitemporalOrderWiListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static ReadOnlyBitemporalOrderWi findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ReadOnlyBitemporalOrderWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static ReadOnlyBitemporalOrderWi findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ReadOnlyBitemporalOrderWiData _castedTargetData = (ReadOnlyBitemporalOrderWiData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return ReadOnlyBitemporalOrderWiFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && ReadOnlyBitemporalOrderWiFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ReadOnlyBitemporalOrderWiImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ReadOnlyBitemporalOrderWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ReadOnlyBitemporalOrderWiRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ReadOnlyBitemporalOrderWi, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ReadOnlyBitemporalOrderWiItemsFinderSubclass<ParentOwnerType> items;
+		private ReadOnlyBitemporalOrderWiOrderStatusFinderSubclass<ParentOwnerType> orderStatus;
+		private ReadOnlyBitemporalOrderWiItemsWithoutInterfaceFinderSubclass<ParentOwnerType> itemsWithoutInterface;
+		private ReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceFinderSubclass<ParentOwnerType> orderStatusWithoutInterface;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ReadOnlyBitemporalOrderWiRelatedFinder()
+		{
+			super();
+		}
+
+		public ReadOnlyBitemporalOrderWiRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ReadOnlyBitemporalOrderWiFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ReadOnlyBitemporalOrderWiFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ReadOnlyBitemporalOrderWiFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ReadOnlyBitemporalOrderWiFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			attributes[6] = this.businessDateFrom();
+			attributes[7] = this.businessDateTo();
+			attributes[8] = this.processingDateFrom();
+			attributes[9] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(4);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.orderStatus());
+				relatedFinders.add(this.itemsWithoutInterface());
+				relatedFinders.add(this.orderStatusWithoutInterface());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.orderStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ReadOnlyBitemporalOrderWi findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyBitemporalOrderWiFinder.findOne(operation, false);
+		}
+
+		public ReadOnlyBitemporalOrderWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyBitemporalOrderWiFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ReadOnlyBitemporalOrderWi> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ReadOnlyBitemporalOrderWiListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends ReadOnlyBitemporalOrderWi> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ReadOnlyBitemporalOrderWiListImpl result = (ReadOnlyBitemporalOrderWiListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ReadOnlyBitemporalOrderWi> constructEmptyList()
+		{
+			return new ReadOnlyBitemporalOrderWiListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1841511879;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReadOnlyBitemporalOrderWiFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyBitemporalOrderWiFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,64,4,0,false, false) :
+					new MappedIntegerAttribute(ReadOnlyBitemporalOrderWiFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,28,-1,-1,50,true, false) :
+					new MappedStringAttribute(ReadOnlyBitemporalOrderWiFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,56,-1,-1,20,true, false) :
+					new MappedStringAttribute(ReadOnlyBitemporalOrderWiFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,60,-1,-1,15,true, false) :
+					new MappedStringAttribute(ReadOnlyBitemporalOrderWiFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,ReadOnlyBitemporalOrderWiFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyBitemporalOrderWiFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,ReadOnlyBitemporalOrderWiFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyBitemporalOrderWiFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,ReadOnlyBitemporalOrderWiFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyBitemporalOrderWiFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,ReadOnlyBitemporalOrderWiFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyBitemporalOrderWiFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),ReadOnlyBitemporalOrderWiFinder.businessDateInfinity,false,false,ReadOnlyBitemporalOrderWiFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(ReadOnlyBitemporalOrderWiFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),ReadOnlyBitemporalOrderWiFinder.processingDateInfinity,false,false,ReadOnlyBitemporalOrderWiFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ReadOnlyBitemporalOrderWiFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ReadOnlyBitemporalOrderItemWiFinder.ReadOnlyBitemporalOrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderItemWiList, ReadOnlyBitemporalOrderWi> items()
+		{
+			ReadOnlyBitemporalOrderWiItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyBitemporalOrderWiFinder.zGetReadOnlyBitemporalOrderWiItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new ReadOnlyBitemporalOrderWiItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public ReadOnlyBitemporalOrderStatusWiFinder.ReadOnlyBitemporalOrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderStatusWi, ReadOnlyBitemporalOrderWi> orderStatus()
+		{
+			ReadOnlyBitemporalOrderWiOrderStatusFinderSubclass<ParentOwnerType> result = this.orderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyBitemporalOrderWiFinder.zGetReadOnlyBitemporalOrderWiOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new ReadOnlyBitemporalOrderWiOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemList, ReadOnlyBitemporalOrderWi> itemsWithoutInterface()
+		{
+			ReadOnlyBitemporalOrderWiItemsWithoutInterfaceFinderSubclass<ParentOwnerType> result = this.itemsWithoutInterface;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyBitemporalOrderWiFinder.zGetReadOnlyBitemporalOrderWiItemsWithoutInterfaceReverseMapper());
+				newMapper.setToMany(true);
+				result = new ReadOnlyBitemporalOrderWiItemsWithoutInterfaceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsWithoutInterface = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, ReadOnlyBitemporalOrderWi> orderStatusWithoutInterface()
+		{
+			ReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceFinderSubclass<ParentOwnerType> result = this.orderStatusWithoutInterface;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyBitemporalOrderWiFinder.zGetReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceReverseMapper());
+				newMapper.setToMany(false);
+				result = new ReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusWithoutInterface = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ReadOnlyBitemporalOrderWiFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ReadOnlyBitemporalOrderWiCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ReadOnlyBitemporalOrderWiRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyBitemporalOrderWiList, OwnerType>
+	{
+		public ReadOnlyBitemporalOrderWiCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ReadOnlyBitemporalOrderWiCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ReadOnlyBitemporalOrderWiCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyBitemporalOrderWiCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ReadOnlyBitemporalOrderWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyBitemporalOrderWiRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyBitemporalOrderWiList, OwnerType>
+	implements ToOneFinder
+	{
+		public ReadOnlyBitemporalOrderWiSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ReadOnlyBitemporalOrderWiSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ReadOnlyBitemporalOrderWi other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ReadOnlyBitemporalOrderWi findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+		{
+			ReadOnlyBitemporalOrderWi _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ReadOnlyBitemporalOrderWi) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyBitemporalOrderWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructReadOnlyBitemporalOrderWiItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructReadOnlyBitemporalOrderWiItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructReadOnlyBitemporalOrderWiItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiItemsPureReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiItemsReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiItemsMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(1));
+		itemsMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(3));
+		itemsMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(5));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper orderStatusReverseMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiOrderStatusReverseMapper()
+	{
+		if (orderStatusReverseMapper == null)
+		{
+			orderStatusReverseMapper = zConstructReadOnlyBitemporalOrderWiOrderStatusReverseMapper();
+		}
+
+		return orderStatusReverseMapper;
+	}
+
+	private static Mapper orderStatusMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiOrderStatusMapper()
+	{
+		if (orderStatusMapper == null)
+		{
+			orderStatusMapper = zConstructReadOnlyBitemporalOrderWiOrderStatusMapper();
+		}
+
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusPureReverseMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiOrderStatusPureReverseMapper()
+	{
+		if (orderStatusPureReverseMapper == null)
+		{
+			orderStatusPureReverseMapper = zConstructReadOnlyBitemporalOrderWiOrderStatusPureReverseMapper();
+		}
+
+		return orderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiOrderStatusPureReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(6));
+		orderStatusMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(8));
+		orderStatusMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(10));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiOrderStatusReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(6));
+		orderStatusMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(8));
+		orderStatusMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(10));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiOrderStatusMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(7));
+		orderStatusMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(9));
+		orderStatusMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(11));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("order");
+		return orderStatusMapper;
+	}
+
+	private static Mapper itemsWithoutInterfaceReverseMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiItemsWithoutInterfaceReverseMapper()
+	{
+		if (itemsWithoutInterfaceReverseMapper == null)
+		{
+			itemsWithoutInterfaceReverseMapper = zConstructReadOnlyBitemporalOrderWiItemsWithoutInterfaceReverseMapper();
+		}
+
+		return itemsWithoutInterfaceReverseMapper;
+	}
+
+	private static Mapper itemsWithoutInterfaceMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiItemsWithoutInterfaceMapper()
+	{
+		if (itemsWithoutInterfaceMapper == null)
+		{
+			itemsWithoutInterfaceMapper = zConstructReadOnlyBitemporalOrderWiItemsWithoutInterfaceMapper();
+		}
+
+		return itemsWithoutInterfaceMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacePureReverseMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiItemsWithoutInterfacePureReverseMapper()
+	{
+		if (itemsWithoutInterfacePureReverseMapper == null)
+		{
+			itemsWithoutInterfacePureReverseMapper = zConstructReadOnlyBitemporalOrderWiItemsWithoutInterfacePureReverseMapper();
+		}
+
+		return itemsWithoutInterfacePureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiItemsWithoutInterfacePureReverseMapper()
+	{
+		InternalList itemsWithoutInterfaceMapperMapperList = new InternalList(3);
+		itemsWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(12));
+		itemsWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(14));
+		itemsWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(16));
+		Mapper itemsWithoutInterfaceMapper = new MultiEqualityMapper(itemsWithoutInterfaceMapperMapperList);
+		itemsWithoutInterfaceMapper.setName("itemsWithoutInterface");
+		return itemsWithoutInterfaceMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiItemsWithoutInterfaceReverseMapper()
+	{
+		InternalList itemsWithoutInterfaceMapperMapperList = new InternalList(3);
+		itemsWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(12));
+		itemsWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(14));
+		itemsWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(16));
+		Mapper itemsWithoutInterfaceMapper = new MultiEqualityMapper(itemsWithoutInterfaceMapperMapperList);
+		itemsWithoutInterfaceMapper.setName("itemsWithoutInterface");
+		return itemsWithoutInterfaceMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiItemsWithoutInterfaceMapper()
+	{
+		InternalList itemsWithoutInterfaceMapperMapperList = new InternalList(3);
+		itemsWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(13));
+		itemsWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(15));
+		itemsWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(17));
+		Mapper itemsWithoutInterfaceMapper = new MultiEqualityMapper(itemsWithoutInterfaceMapperMapperList);
+		itemsWithoutInterfaceMapper.setName("readOnlyDatedOrderWithInterface");
+		return itemsWithoutInterfaceMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfaceReverseMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceReverseMapper()
+	{
+		if (orderStatusWithoutInterfaceReverseMapper == null)
+		{
+			orderStatusWithoutInterfaceReverseMapper = zConstructReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceReverseMapper();
+		}
+
+		return orderStatusWithoutInterfaceReverseMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfaceMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceMapper()
+	{
+		if (orderStatusWithoutInterfaceMapper == null)
+		{
+			orderStatusWithoutInterfaceMapper = zConstructReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceMapper();
+		}
+
+		return orderStatusWithoutInterfaceMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacePureReverseMapper = null;
+	public static Mapper zGetReadOnlyBitemporalOrderWiOrderStatusWithoutInterfacePureReverseMapper()
+	{
+		if (orderStatusWithoutInterfacePureReverseMapper == null)
+		{
+			orderStatusWithoutInterfacePureReverseMapper = zConstructReadOnlyBitemporalOrderWiOrderStatusWithoutInterfacePureReverseMapper();
+		}
+
+		return orderStatusWithoutInterfacePureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiOrderStatusWithoutInterfacePureReverseMapper()
+	{
+		InternalList orderStatusWithoutInterfaceMapperMapperList = new InternalList(3);
+		orderStatusWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(18));
+		orderStatusWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(20));
+		orderStatusWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(22));
+		Mapper orderStatusWithoutInterfaceMapper = new MultiEqualityMapper(orderStatusWithoutInterfaceMapperMapperList);
+		orderStatusWithoutInterfaceMapper.setName("orderStatusWithoutInterface");
+		return orderStatusWithoutInterfaceMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceReverseMapper()
+	{
+		InternalList orderStatusWithoutInterfaceMapperMapperList = new InternalList(3);
+		orderStatusWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(18));
+		orderStatusWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(20));
+		orderStatusWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(22));
+		Mapper orderStatusWithoutInterfaceMapper = new MultiEqualityMapper(orderStatusWithoutInterfaceMapperMapperList);
+		orderStatusWithoutInterfaceMapper.setName("orderStatusWithoutInterface");
+		return orderStatusWithoutInterfaceMapper;
+	}
+
+	private static Mapper zConstructReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceMapper()
+	{
+		InternalList orderStatusWithoutInterfaceMapperMapperList = new InternalList(3);
+		orderStatusWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(19));
+		orderStatusWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(21));
+		orderStatusWithoutInterfaceMapperMapperList.add(ReadOnlyBitemporalOrderWiFinder.zGetConstantJoin(23));
+		Mapper orderStatusWithoutInterfaceMapper = new MultiEqualityMapper(orderStatusWithoutInterfaceMapperMapperList);
+		orderStatusWithoutInterfaceMapper.setName("readOnlyDatedOrderWithInterface");
+		return orderStatusWithoutInterfaceMapper;
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI.ORDER_ID **/
+	public static IntegerAttribute<ReadOnlyBitemporalOrderWi> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI.ORDER_DATE **/
+	public static TimestampAttribute<ReadOnlyBitemporalOrderWi> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI.USER_ID **/
+	public static IntegerAttribute<ReadOnlyBitemporalOrderWi> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI.DESCRIPTION **/
+	public static StringAttribute<ReadOnlyBitemporalOrderWi> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI."STATE" **/
+	public static StringAttribute<ReadOnlyBitemporalOrderWi> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI.TRACKING_ID **/
+	public static StringAttribute<ReadOnlyBitemporalOrderWi> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI.FROM_Z **/
+	public static TimestampAttribute<ReadOnlyBitemporalOrderWi> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI.THRU_Z **/
+	public static TimestampAttribute<ReadOnlyBitemporalOrderWi> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI.IN_Z **/
+	public static TimestampAttribute<ReadOnlyBitemporalOrderWi> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to RO_BITEMPORAL_ORDER_WI.OUT_Z **/
+	public static TimestampAttribute<ReadOnlyBitemporalOrderWi> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ReadOnlyBitemporalOrderWi> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<ReadOnlyBitemporalOrderWi> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ReadOnlyBitemporalOrderItemWiFinder.ReadOnlyBitemporalOrderItemWiCollectionFinderForRelatedClasses<ReadOnlyBitemporalOrderWi, ReadOnlyBitemporalOrderItemWiList, ReadOnlyBitemporalOrderWi> items()
+	{
+		return finder.items();
+	}
+
+	public static class ReadOnlyBitemporalOrderWiItemsFinderSubclass<ParentOwnerType> extends ReadOnlyBitemporalOrderItemWiFinder.ReadOnlyBitemporalOrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderItemWiList, ReadOnlyBitemporalOrderWi>
+	{
+		public ReadOnlyBitemporalOrderWiItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ReadOnlyBitemporalOrderItemWiFinder.orderId(),
+				ReadOnlyBitemporalOrderItemWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderItemWiFinder.processingDate()).withExtractors(
+				ReadOnlyBitemporalOrderWiFinder.orderId(),
+				ReadOnlyBitemporalOrderWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyBitemporalOrderWiItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ReadOnlyBitemporalOrderItemWiList plainValueOf(ReadOnlyBitemporalOrderWi _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected ReadOnlyBitemporalOrderItemWiList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyBitemporalOrderWiList)_obj).getItems();
+		}
+	}
+
+	public static ReadOnlyBitemporalOrderStatusWiFinder.ReadOnlyBitemporalOrderStatusWiSingleFinderForRelatedClasses<ReadOnlyBitemporalOrderWi, ReadOnlyBitemporalOrderStatusWi, ReadOnlyBitemporalOrderWi> orderStatus()
+	{
+		return finder.orderStatus();
+	}
+
+	public static class ReadOnlyBitemporalOrderWiOrderStatusFinderSubclass<ParentOwnerType> extends ReadOnlyBitemporalOrderStatusWiFinder.ReadOnlyBitemporalOrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderStatusWi, ReadOnlyBitemporalOrderWi>
+	{
+		public ReadOnlyBitemporalOrderWiOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ReadOnlyBitemporalOrderStatusWiFinder.orderId(),
+				ReadOnlyBitemporalOrderStatusWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderStatusWiFinder.processingDate()).withExtractors(
+				ReadOnlyBitemporalOrderWiFinder.orderId(),
+				ReadOnlyBitemporalOrderWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyBitemporalOrderWiOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ReadOnlyBitemporalOrderStatusWi plainValueOf(ReadOnlyBitemporalOrderWi _obj)
+		{
+			return _obj.getOrderStatus();
+		}
+
+		protected ReadOnlyBitemporalOrderStatusWiList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyBitemporalOrderWiList)_obj).getOrderStatus();
+		}
+	}
+
+	public static BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ReadOnlyBitemporalOrderWi, BitemporalOrderItemList, ReadOnlyBitemporalOrderWi> itemsWithoutInterface()
+	{
+		return finder.itemsWithoutInterface();
+	}
+
+	public static class ReadOnlyBitemporalOrderWiItemsWithoutInterfaceFinderSubclass<ParentOwnerType> extends BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemList, ReadOnlyBitemporalOrderWi>
+	{
+		public ReadOnlyBitemporalOrderWiItemsWithoutInterfaceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsWithoutInterface";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderItemFinder.orderId(),
+				BitemporalOrderItemFinder.businessDate(),
+				BitemporalOrderItemFinder.processingDate()).withExtractors(
+				ReadOnlyBitemporalOrderWiFinder.orderId(),
+				ReadOnlyBitemporalOrderWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyBitemporalOrderWiItemsWithoutInterfaceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderItemList plainValueOf(ReadOnlyBitemporalOrderWi _obj)
+		{
+			return _obj.getItemsWithoutInterface();
+		}
+
+		protected BitemporalOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyBitemporalOrderWiList)_obj).getItemsWithoutInterface();
+		}
+	}
+
+	public static BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ReadOnlyBitemporalOrderWi, BitemporalOrderStatus, ReadOnlyBitemporalOrderWi> orderStatusWithoutInterface()
+	{
+		return finder.orderStatusWithoutInterface();
+	}
+
+	public static class ReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, ReadOnlyBitemporalOrderWi>
+	{
+		public ReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatusWithoutInterface";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderStatusFinder.orderId(),
+				BitemporalOrderStatusFinder.businessDate(),
+				BitemporalOrderStatusFinder.processingDate()).withExtractors(
+				ReadOnlyBitemporalOrderWiFinder.orderId(),
+				ReadOnlyBitemporalOrderWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyBitemporalOrderWiOrderStatusWithoutInterfaceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderStatus plainValueOf(ReadOnlyBitemporalOrderWi _obj)
+		{
+			return _obj.getOrderStatusWithoutInterface();
+		}
+
+		protected BitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyBitemporalOrderWiList)_obj).getOrderStatusWithoutInterfaces();
+		}
+	}
+
+	public static Operation eq(ReadOnlyBitemporalOrderWi other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static ReadOnlyBitemporalOrderWiSingleFinder<ReadOnlyBitemporalOrderWi, Object, ReadOnlyBitemporalOrderWi> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ReadOnlyBitemporalOrderWi");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,766 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class ReadOnlyBitemporalOrderWiImplAbstract
+implements MithraDatedObject, Serializable
+{
+	protected ReadOnlyBitemporalOrderWiData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp businessDate;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final RelationshipHashStrategy fororderStatusWithoutInterface = new OrderStatusWithoutInterfaceRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = ReadOnlyBitemporalOrderStatusWiFinder.businessDate();
+		private AsOfAttribute processingDate = ReadOnlyBitemporalOrderStatusWiFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyBitemporalOrderWiImpl _castedSrcObject = (ReadOnlyBitemporalOrderWiImpl) _srcObject;
+			ReadOnlyBitemporalOrderWiData _castedSrcData = (ReadOnlyBitemporalOrderWiData) _srcData;
+			ReadOnlyBitemporalOrderStatusWiData _castedTargetData = (ReadOnlyBitemporalOrderStatusWiData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyBitemporalOrderWiData _castedSrcData = (ReadOnlyBitemporalOrderWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderStatusWithoutInterfaceRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderStatusFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderStatusFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyBitemporalOrderWiImpl _castedSrcObject = (ReadOnlyBitemporalOrderWiImpl) _srcObject;
+			ReadOnlyBitemporalOrderWiData _castedSrcData = (ReadOnlyBitemporalOrderWiData) _srcData;
+			BitemporalOrderStatusData _castedTargetData = (BitemporalOrderStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyBitemporalOrderWiData _castedSrcData = (ReadOnlyBitemporalOrderWiData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public ReadOnlyBitemporalOrderWiImplAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, ReadOnlyBitemporalOrderWiFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ReadOnlyBitemporalOrderWiFinder.isFullCache());
+	}
+
+	public ReadOnlyBitemporalOrderWiImplAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromReadOnlyBitemporalOrderWiData( ReadOnlyBitemporalOrderWiData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromReadOnlyBitemporalOrderWiData( ReadOnlyBitemporalOrderWiData data )
+	{
+		this.setFromReadOnlyBitemporalOrderWiData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromReadOnlyBitemporalOrderWiData( (ReadOnlyBitemporalOrderWiData) data );
+	}
+
+	public ReadOnlyBitemporalOrderWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		ReadOnlyBitemporalOrderWiImplAbstract copy = (ReadOnlyBitemporalOrderWiImplAbstract)
+		ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ReadOnlyBitemporalOrderWiImpl)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ReadOnlyBitemporalOrderWiData data = (ReadOnlyBitemporalOrderWiData) ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ReadOnlyBitemporalOrderWi has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal().getCache();
+	}
+
+	public ReadOnlyBitemporalOrderWiData zGetCurrentDataWithCheck()
+	{
+		ReadOnlyBitemporalOrderWiData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private ReadOnlyBitemporalOrderWiData zRefreshData(ReadOnlyBitemporalOrderWiData current)
+	{
+		ReadOnlyBitemporalOrderWiData newData = (ReadOnlyBitemporalOrderWiData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("ReadOnlyBitemporalOrderWi has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(ReadOnlyBitemporalOrderWiData current)
+	{
+		boolean refresh = !ReadOnlyBitemporalOrderWiFinder.businessDate().dataMatches(current, businessDate);
+		if (!refresh)
+		{
+			refresh = !ReadOnlyBitemporalOrderWiFinder.processingDate().dataMatches(current, processingDate);
+		}
+
+		return refresh;
+	}
+
+	private ReadOnlyBitemporalOrderWiData zGetOrInitializeInMemoryData()
+	{
+		ReadOnlyBitemporalOrderWiData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new ReadOnlyBitemporalOrderWiData.ReadOnlyBitemporalOrderWiDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		ReadOnlyBitemporalOrderWiData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			ReadOnlyBitemporalOrderWiData newData = (ReadOnlyBitemporalOrderWiData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateFromNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateFrom(newValue);
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateToNull();
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateTo(newValue);
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.zGetCurrentDataWithCheck();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDescription(newValue);
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.zGetCurrentDataWithCheck();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setOrderDate(newValue);
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.currentData.isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.currentData;
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setOrderId(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isStateNull();
+	}
+
+	public String getState()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.zGetCurrentDataWithCheck();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setState(newValue);
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTrackingIdNull();
+	}
+
+	public String getTrackingId()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.zGetCurrentDataWithCheck();
+		return data.getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTrackingId(newValue);
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		ReadOnlyBitemporalOrderWiData data = this.zGetCurrentDataWithCheck();
+		if (data.isUserIdNull())
+		MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setUserId(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setUserIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setUserIdNull();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ReadOnlyBitemporalOrderItemWi.orderId = this.orderId</pre>
+	* @see ReadOnlyBitemporalOrderItemWi#getOrder() reverse relationship ReadOnlyBitemporalOrderItemWi.getOrder()
+	* @return items
+	*/
+	public ReadOnlyBitemporalOrderItemWiList getItems()
+	{
+		ReadOnlyBitemporalOrderWiData _data = ((ReadOnlyBitemporalOrderWiData)this.zGetCurrentDataWithCheck());
+		ReadOnlyBitemporalOrderItemWiListImpl _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (ReadOnlyBitemporalOrderItemWiListImpl) _data.getItems();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ReadOnlyBitemporalOrderWiFinder.items().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = new ReadOnlyBitemporalOrderItemWiListImpl(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ReadOnlyBitemporalOrderStatusWi.orderId = this.orderId</pre>
+	* @see ReadOnlyBitemporalOrderStatusWi#getOrder() reverse relationship ReadOnlyBitemporalOrderStatusWi.getOrder()
+	* @return The order status
+	*/
+	public ReadOnlyBitemporalOrderStatusWi getOrderStatus()
+	{
+		ReadOnlyBitemporalOrderWiData _data = ((ReadOnlyBitemporalOrderWiData)this.zGetCurrentDataWithCheck());
+		ReadOnlyBitemporalOrderStatusWiImpl _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (ReadOnlyBitemporalOrderStatusWiImpl) _data.getOrderStatus();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			{
+				_portal = ReadOnlyBitemporalOrderStatusWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyBitemporalOrderStatusWiImpl) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ReadOnlyBitemporalOrderWiFinder.orderStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = ReadOnlyBitemporalOrderStatusWiFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId</pre>
+	* @see BitemporalOrderItem#getReadOnlyDatedOrderWithInterface() reverse relationship BitemporalOrderItem.getReadOnlyDatedOrderWithInterface()
+	* @return items without interface
+	*/
+	public BitemporalOrderItemList getItemsWithoutInterface()
+	{
+		ReadOnlyBitemporalOrderWiData _data = ((ReadOnlyBitemporalOrderWiData)this.zGetCurrentDataWithCheck());
+		BitemporalOrderItemList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (BitemporalOrderItemList) _data.getItemsWithoutInterface();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ReadOnlyBitemporalOrderWiFinder.itemsWithoutInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = new BitemporalOrderItemList(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatus#getReadOnlyDatedOrderWithInterface() reverse relationship BitemporalOrderStatus.getReadOnlyDatedOrderWithInterface()
+	* @return The order status without interface
+	*/
+	public BitemporalOrderStatus getOrderStatusWithoutInterface()
+	{
+		ReadOnlyBitemporalOrderWiData _data = ((ReadOnlyBitemporalOrderWiData)this.zGetCurrentDataWithCheck());
+		BitemporalOrderStatus _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (BitemporalOrderStatus) _data.getOrderStatusWithoutInterface();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			{
+				_portal = BitemporalOrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatusWithoutInterface,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderStatus) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ReadOnlyBitemporalOrderWiFinder.orderStatusWithoutInterface().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = BitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setItems(ReadOnlyBitemporalOrderItemWiList items)
+	{
+		this.ensureSetAttributeAllowed();
+		ReadOnlyBitemporalOrderWiData _data = this.zGetCurrentDataWithCheck();
+		_data.setItems(items);
+	}
+
+	public void setOrderStatus(ReadOnlyBitemporalOrderStatusWi orderStatus)
+	{
+		this.ensureSetAttributeAllowed();
+		ReadOnlyBitemporalOrderWiData _data = this.zGetCurrentDataWithCheck();
+		_data.setOrderStatus(orderStatus);
+	}
+
+	public void setItemsWithoutInterface(BitemporalOrderItemList itemsWithoutInterface)
+	{
+		this.ensureSetAttributeAllowed();
+		ReadOnlyBitemporalOrderWiData _data = this.zGetCurrentDataWithCheck();
+		_data.setItemsWithoutInterface(itemsWithoutInterface);
+	}
+
+	public void setOrderStatusWithoutInterface(BitemporalOrderStatus orderStatusWithoutInterface)
+	{
+		this.ensureSetAttributeAllowed();
+		ReadOnlyBitemporalOrderWiData _data = this.zGetCurrentDataWithCheck();
+		_data.setOrderStatusWithoutInterface(orderStatusWithoutInterface);
+		if (orderStatusWithoutInterface == null)
+		{
+			this.setOrderId(0);
+		}
+		else
+		{
+			this.setOrderId(
+				orderStatusWithoutInterface.getOrderId());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ReadOnlyBitemporalOrderWiData data = ((ReadOnlyBitemporalOrderWiData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ReadOnlyBitemporalOrderWiData data = ((ReadOnlyBitemporalOrderWiData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new ReadOnlyBitemporalOrderWiData.ReadOnlyBitemporalOrderWiDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ReadOnlyBitemporalOrderWiFinder.isFullCache());
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ReadOnlyBitemporalOrderWiFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ReadOnlyBitemporalOrderWiFinder.businessDate().eq(businessDate);
+			op = op.and(ReadOnlyBitemporalOrderWiFinder.processingDate().eq(processingDate));
+			op = op.and(ReadOnlyBitemporalOrderWiFinder.orderId().eq(currentData.getOrderId()));
+			return ReadOnlyBitemporalOrderWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ReadOnlyBitemporalOrderWiData localData = (ReadOnlyBitemporalOrderWiData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal();
+	}
+}
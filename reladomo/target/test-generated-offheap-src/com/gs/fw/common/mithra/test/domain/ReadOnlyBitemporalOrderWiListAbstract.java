@@ -0,0 +1,11 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyBitemporalOrderWiListAbstract extends List<ReadOnlyBitemporalOrderWi>
+{
+	public ReadOnlyBitemporalOrderItemWiList getItems();
+	public ReadOnlyBitemporalOrderStatusWiList getOrderStatus();
+	public BitemporalOrderItemList getItemsWithoutInterface();
+	public BitemporalOrderStatusList getOrderStatusWithoutInterfaces();
+}
@@ -0,0 +1,17 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyObjectWiRoAbstract
+{
+	Timestamp getObjectDate();
+	boolean isObjectDateNull();
+	int getObjectId();
+	boolean isObjectIdNull();
+	int getObjectValue();
+	boolean isObjectValueNull();
+}
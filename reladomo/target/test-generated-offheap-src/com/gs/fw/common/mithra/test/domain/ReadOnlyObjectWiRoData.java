@@ -0,0 +1,313 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReadOnlyObjectWiRoData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private Timestamp objectDate;
+	private int objectId;
+	private int objectValue;
+	public boolean isObjectDateNull()
+	{
+		return this.getObjectDate() == null;
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isObjectValueNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.objectDate);
+		out.writeInt(this.objectId);
+		out.writeInt(this.objectValue);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public Timestamp getObjectDate()
+	{
+		return this.objectDate;
+	}
+
+	public long zGetObjectDateAsLong()
+	{
+		if (objectDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return objectDate.getTime();
+	}
+
+	public void setObjectDate(Timestamp value)
+	{
+		this.objectDate = TimestampPool.getInstance().getOrAddToCache(value, ReadOnlyObjectWiRoFinder.isFullCache(), ReadOnlyObjectWiRoFinder.isOffHeap());
+	}
+
+	public void setObjectDateNull()
+	{
+		this.setObjectDate(null);
+	}
+
+	public int getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(int value)
+	{
+		this.objectId = value;
+	}
+
+	public void setObjectIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getObjectValue()
+	{
+		return this.objectValue;
+	}
+
+	public void setObjectValue(int value)
+	{
+		this.objectValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setObjectValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ReadOnlyObjectWiRoData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.objectDate = this.objectDate;
+		copy.objectId = this.objectId;
+		copy.objectValue = this.objectValue;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.objectDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ReadOnlyObjectWiRoFinder.isFullCache(), ReadOnlyObjectWiRoFinder.isOffHeap());
+		this.objectId = in.readInt();
+		this.objectValue = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ReadOnlyObjectWiRoData otherData = (ReadOnlyObjectWiRoData) other;
+		if (getObjectId() != otherData.getObjectId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.objectId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.objectId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ReadOnlyObjectWiRoData readOnlyObjectWiRoData = (ReadOnlyObjectWiRoData) newData;
+		this.setObjectDate(readOnlyObjectWiRoData.getObjectDate());
+		this.setObjectValue(readOnlyObjectWiRoData.getObjectValue());
+		if (readOnlyObjectWiRoData.isObjectValueNull()) this.setObjectValueNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ReadOnlyObjectWiRoData other = (ReadOnlyObjectWiRoData) newData;
+		if (!isObjectDateNull() ? !getObjectDate().equals(other.getObjectDate()) : !other.isObjectDateNull())
+		{
+			return true;
+		}
+
+		if ( isObjectValueNull() != other.isObjectValueNull() || getObjectValue() != other.getObjectValue())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ReadOnlyObjectWiRoData copy = new ReadOnlyObjectWiRoData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ReadOnlyObjectWiRoData copy = new ReadOnlyObjectWiRoData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ReadOnlyObjectWiRoData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ReadOnlyObjectWiRoFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ReadOnlyObjectWiRoFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ReadOnlyObjectWiRoData";
+	}
+}
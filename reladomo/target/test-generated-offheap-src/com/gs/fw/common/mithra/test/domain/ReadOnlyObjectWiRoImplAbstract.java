@@ -0,0 +1,273 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ReadOnlyObjectWiRoImplAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private Timestamp objectDate;
+	private int objectId;
+	private int objectValue;
+	public boolean isObjectDateNull()
+	{
+		return this.getObjectDate() == null;
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isObjectValueNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.objectDate);
+		out.writeInt(this.objectId);
+		out.writeInt(this.objectValue);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ReadOnlyObjectWiRoData data = new ReadOnlyObjectWiRoData();
+		data.setObjectDate(objectDate);
+		data.setObjectId(objectId);
+		data.setObjectValue(objectValue);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public ReadOnlyObjectWiRoImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ReadOnlyObjectWiRoImplAbstract copy = (ReadOnlyObjectWiRoImplAbstract) ReadOnlyObjectWiRoFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ReadOnlyObjectWiRoImpl)copy;
+	}
+
+	protected void zSetFromReadOnlyObjectWiRoData(ReadOnlyObjectWiRoData data)
+	{
+		this.setFromReadOnlyObjectWiRoData(data);
+	}
+
+	public void setFromReadOnlyObjectWiRoData(ReadOnlyObjectWiRoData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		objectDate = data.getObjectDate();
+		objectId = data.getObjectId();
+		objectValue = data.getObjectValue();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReadOnlyObjectWiRoFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromReadOnlyObjectWiRoData((ReadOnlyObjectWiRoData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public Timestamp getObjectDate()
+	{
+		return this.objectDate;
+	}
+
+	public void setObjectDate(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.objectDate = TimestampPool.getInstance().getOrAddToCache(value, ReadOnlyObjectWiRoFinder.isFullCache());
+	}
+
+	public int getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.objectId = value;
+	}
+
+	public int getObjectValue()
+	{
+		if (isObjectValueNull()) throwNullPrimitiveException("objectValue");
+		return this.objectValue;
+	}
+
+	public void setObjectValue(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.objectValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setObjectValueNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ReadOnlyObjectWiRoData readOnlyObjectWiRoData = (ReadOnlyObjectWiRoData) newData;
+		if (isNullBits0 != readOnlyObjectWiRoData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (!isObjectDateNull() ? !getObjectDate().equals(readOnlyObjectWiRoData.getObjectDate()) : !readOnlyObjectWiRoData.isObjectDateNull())
+		{
+			return true;
+		}
+
+		if (objectValue != readOnlyObjectWiRoData.getObjectValue())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeInt(this.objectId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.objectDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ReadOnlyObjectWiRoFinder.isFullCache(), ReadOnlyObjectWiRoFinder.isOffHeap());
+			this.objectId = in.readInt();
+			this.objectValue = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.objectId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ReadOnlyObjectWiRoFinder.objectId().eq(this.getObjectId());
+			return ReadOnlyObjectWiRoFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,7 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyObjectWiRoListAbstract extends List<ReadOnlyObjectWiRo>
+{
+}
@@ -0,0 +1,1018 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReadOnlyOrderItemWiFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ReadOnlyOrderItemWiImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ReadOnlyOrderItemWi";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ReadOnlyOrderItemWi");
+	private static final ReadOnlyOrderItemWiSingleFinder<ReadOnlyOrderItemWi, Object, ReadOnlyOrderItemWi> finder = new ReadOnlyOrderItemWiSingleFinder<ReadOnlyOrderItemWi, Object, ReadOnlyOrderItemWi>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ReadOnlyOrderItemWiFinder.ReadOnlyOrderItemWiRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("originalPrice");
+		finderMethodMap.addNormalAttributeName("discountPrice");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addRelationshipName("productInfo");
+		finderMethodMap.addRelationshipName("orderItemStatus");
+		finderMethodMap.addRelationshipName("order");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = ReadOnlyOrderItemWiFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			result[1] = ProductFinder.productId().constructEqualityMapper(ReadOnlyOrderItemWiFinder.productId());
+			result[2] = ReadOnlyOrderItemWiFinder.id().constructEqualityMapper(OrderItemStatusFinder.itemId());
+			result[3] = OrderItemStatusFinder.itemId().constructEqualityMapper(ReadOnlyOrderItemWiFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ReadOnlyOrderItemWi findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ReadOnlyOrderItemWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ReadOnlyOrderItemWiList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyOrderItemWiListImpl) finder.findMany(operation);
+	}
+
+	public static ReadOnlyOrderItemWiList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyOrderItemWiListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static ReadOnlyOrderItemWi findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ReadOnlyOrderItemWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static ReadOnlyOrderItemWi findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ReadOnlyOrderItemWiImpl _castedTargetData = (ReadOnlyOrderItemWiImpl) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ReadOnlyOrderItemWiImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ReadOnlyOrderItemWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ReadOnlyOrderItemWiRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ReadOnlyOrderItemWi, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> originalPrice;
+		private DoubleAttribute<ParentOwnerType> discountPrice;
+		private StringAttribute<ParentOwnerType> state;
+		private ReadOnlyOrderItemWiProductInfoFinderSubclass<ParentOwnerType> productInfo;
+		private ReadOnlyOrderItemWiOrderItemStatusFinderSubclass<ParentOwnerType> orderItemStatus;
+		private ReadOnlyOrderItemWiOrderFinderSubclass<ParentOwnerType> order;
+		public ReadOnlyOrderItemWiRelatedFinder()
+		{
+			super();
+		}
+
+		public ReadOnlyOrderItemWiRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ReadOnlyOrderItemWiFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ReadOnlyOrderItemWiFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ReadOnlyOrderItemWiFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ReadOnlyOrderItemWiFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.id();
+			attributes[1] = this.orderId();
+			attributes[2] = this.productId();
+			attributes[3] = this.quantity();
+			attributes[4] = this.originalPrice();
+			attributes[5] = this.discountPrice();
+			attributes[6] = this.state();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.productInfo());
+				relatedFinders.add(this.orderItemStatus());
+				relatedFinders.add(this.order());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.orderItemStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ReadOnlyOrderItemWi findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyOrderItemWiFinder.findOne(operation, false);
+		}
+
+		public ReadOnlyOrderItemWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyOrderItemWiFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ReadOnlyOrderItemWi> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ReadOnlyOrderItemWiListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends ReadOnlyOrderItemWi> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ReadOnlyOrderItemWiListImpl result = (ReadOnlyOrderItemWiListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ReadOnlyOrderItemWi> constructEmptyList()
+		{
+			return new ReadOnlyOrderItemWiListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1546807644;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReadOnlyOrderItemWiFinder.id(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("orderItemStatus");
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReadOnlyOrderItemWiFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ReadOnlyOrderWi", "items");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReadOnlyOrderItemWiFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("productInfo");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ReadOnlyOrderItemWiFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> originalPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.originalPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ORIGINAL_PRICE","","originalPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ReadOnlyOrderItemWiFinder.originalPrice(), this.mapper, this.zGetValueSelector());
+				this.originalPrice = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> discountPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.discountPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DISCOUNT_PRICE","","discountPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ReadOnlyOrderItemWiFinder.discountPrice(), this.mapper, this.zGetValueSelector());
+				this.discountPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(ReadOnlyOrderItemWiFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, ReadOnlyOrderItemWi> productInfo()
+		{
+			ReadOnlyOrderItemWiProductInfoFinderSubclass<ParentOwnerType> result = this.productInfo;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyOrderItemWiFinder.zGetReadOnlyOrderItemWiProductInfoReverseMapper());
+				newMapper.setToMany(false);
+				result = new ReadOnlyOrderItemWiProductInfoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productInfo = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemStatusFinder.OrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderItemStatus, ReadOnlyOrderItemWi> orderItemStatus()
+		{
+			ReadOnlyOrderItemWiOrderItemStatusFinderSubclass<ParentOwnerType> result = this.orderItemStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyOrderItemWiFinder.zGetReadOnlyOrderItemWiOrderItemStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new ReadOnlyOrderItemWiOrderItemStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderItemStatus = result;
+			}
+
+			return result;
+		}
+
+		public ReadOnlyOrderWiFinder.ReadOnlyOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyOrderWi, ReadOnlyOrderItemWi> order()
+		{
+			ReadOnlyOrderItemWiOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyOrderWiFinder.zGetReadOnlyOrderWiItemsMapper());
+				newMapper.setToMany(false);
+				result = new ReadOnlyOrderItemWiOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ReadOnlyOrderItemWiFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ReadOnlyOrderItemWiFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ReadOnlyOrderItemWiCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ReadOnlyOrderItemWiRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyOrderItemWiList, OwnerType>
+	{
+		public ReadOnlyOrderItemWiCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ReadOnlyOrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ReadOnlyOrderItemWiCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyOrderItemWiCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ReadOnlyOrderItemWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyOrderItemWiRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyOrderItemWiList, OwnerType>
+	implements ToOneFinder
+	{
+		public ReadOnlyOrderItemWiSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ReadOnlyOrderItemWiSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ReadOnlyOrderItemWi other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ReadOnlyOrderItemWi findByPrimaryKey(int id)
+		{
+			ReadOnlyOrderItemWi _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ReadOnlyOrderItemWi) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ReadOnlyOrderItemWiSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyOrderItemWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyOrderItemWiSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productInfoReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderItemWiProductInfoReverseMapper()
+	{
+		if (productInfoReverseMapper == null)
+		{
+			productInfoReverseMapper = zConstructReadOnlyOrderItemWiProductInfoReverseMapper();
+		}
+
+		return productInfoReverseMapper;
+	}
+
+	private static Mapper productInfoMapper = null;
+	public static Mapper zGetReadOnlyOrderItemWiProductInfoMapper()
+	{
+		if (productInfoMapper == null)
+		{
+			productInfoMapper = zConstructReadOnlyOrderItemWiProductInfoMapper();
+		}
+
+		return productInfoMapper;
+	}
+
+	private static Mapper productInfoPureReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderItemWiProductInfoPureReverseMapper()
+	{
+		if (productInfoPureReverseMapper == null)
+		{
+			productInfoPureReverseMapper = zConstructReadOnlyOrderItemWiProductInfoPureReverseMapper();
+		}
+
+		return productInfoPureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderItemWiProductInfoPureReverseMapper()
+	{
+		Mapper productInfoMapper = ReadOnlyOrderItemWiFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderItemWiProductInfoReverseMapper()
+	{
+		Mapper productInfoMapper = ReadOnlyOrderItemWiFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderItemWiProductInfoMapper()
+	{
+		Mapper productInfoMapper = ReadOnlyOrderItemWiFinder.zGetConstantJoin(1);
+		productInfoMapper.setName("productInfo_Reverse");
+		return productInfoMapper;
+	}
+
+	private static Mapper orderItemStatusReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderItemWiOrderItemStatusReverseMapper()
+	{
+		if (orderItemStatusReverseMapper == null)
+		{
+			orderItemStatusReverseMapper = zConstructReadOnlyOrderItemWiOrderItemStatusReverseMapper();
+		}
+
+		return orderItemStatusReverseMapper;
+	}
+
+	private static Mapper orderItemStatusMapper = null;
+	public static Mapper zGetReadOnlyOrderItemWiOrderItemStatusMapper()
+	{
+		if (orderItemStatusMapper == null)
+		{
+			orderItemStatusMapper = zConstructReadOnlyOrderItemWiOrderItemStatusMapper();
+		}
+
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper orderItemStatusPureReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderItemWiOrderItemStatusPureReverseMapper()
+	{
+		if (orderItemStatusPureReverseMapper == null)
+		{
+			orderItemStatusPureReverseMapper = zConstructReadOnlyOrderItemWiOrderItemStatusPureReverseMapper();
+		}
+
+		return orderItemStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderItemWiOrderItemStatusPureReverseMapper()
+	{
+		Mapper orderItemStatusMapper = ReadOnlyOrderItemWiFinder.zGetConstantJoin(2);
+		orderItemStatusMapper.setName("orderItemStatus");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderItemWiOrderItemStatusReverseMapper()
+	{
+		Mapper orderItemStatusMapper = ReadOnlyOrderItemWiFinder.zGetConstantJoin(2);
+		orderItemStatusMapper.setName("orderItemStatus");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderItemWiOrderItemStatusMapper()
+	{
+		Mapper orderItemStatusMapper = ReadOnlyOrderItemWiFinder.zGetConstantJoin(3);
+		orderItemStatusMapper.setName("orderItemStatus_Reverse");
+		return orderItemStatusMapper;
+	}
+
+	/** maps to RO_ORDER_ITEM_WI.ID **/
+	public static IntegerAttribute<ReadOnlyOrderItemWi> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to RO_ORDER_ITEM_WI.ORDER_ID **/
+	public static IntegerAttribute<ReadOnlyOrderItemWi> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to RO_ORDER_ITEM_WI.PRODUCT_ID **/
+	public static IntegerAttribute<ReadOnlyOrderItemWi> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to RO_ORDER_ITEM_WI.QUANTITY **/
+	public static DoubleAttribute<ReadOnlyOrderItemWi> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to RO_ORDER_ITEM_WI.ORIGINAL_PRICE **/
+	public static DoubleAttribute<ReadOnlyOrderItemWi> originalPrice()
+	{
+		return finder.originalPrice();
+	}
+
+	/** maps to RO_ORDER_ITEM_WI.DISCOUNT_PRICE **/
+	public static DoubleAttribute<ReadOnlyOrderItemWi> discountPrice()
+	{
+		return finder.discountPrice();
+	}
+
+	/** maps to RO_ORDER_ITEM_WI."STATE" **/
+	public static StringAttribute<ReadOnlyOrderItemWi> state()
+	{
+		return finder.state();
+	}
+
+	public static ProductFinder.ProductSingleFinderForRelatedClasses<ReadOnlyOrderItemWi, Product, ReadOnlyOrderItemWi> productInfo()
+	{
+		return finder.productInfo();
+	}
+
+	public static class ReadOnlyOrderItemWiProductInfoFinderSubclass<ParentOwnerType> extends ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, ReadOnlyOrderItemWi>
+	{
+		public ReadOnlyOrderItemWiProductInfoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productInfo";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyOrderItemWiProductInfoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Product plainValueOf(ReadOnlyOrderItemWi _obj)
+		{
+			return _obj.getProductInfo();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyOrderItemWiList)_obj).getProductInfos();
+		}
+	}
+
+	public static OrderItemStatusFinder.OrderItemStatusSingleFinderForRelatedClasses<ReadOnlyOrderItemWi, OrderItemStatus, ReadOnlyOrderItemWi> orderItemStatus()
+	{
+		return finder.orderItemStatus();
+	}
+
+	public static class ReadOnlyOrderItemWiOrderItemStatusFinderSubclass<ParentOwnerType> extends OrderItemStatusFinder.OrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderItemStatus, ReadOnlyOrderItemWi>
+	{
+		public ReadOnlyOrderItemWiOrderItemStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderItemStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyOrderItemWiOrderItemStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderItemStatus plainValueOf(ReadOnlyOrderItemWi _obj)
+		{
+			return _obj.getOrderItemStatus();
+		}
+
+		protected OrderItemStatusList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyOrderItemWiList)_obj).getOrderItemStatus();
+		}
+	}
+
+	public static ReadOnlyOrderWiFinder.ReadOnlyOrderWiSingleFinderForRelatedClasses<ReadOnlyOrderItemWi, ReadOnlyOrderWi, ReadOnlyOrderItemWi> order()
+	{
+		return finder.order();
+	}
+
+	public static class ReadOnlyOrderItemWiOrderFinderSubclass<ParentOwnerType> extends ReadOnlyOrderWiFinder.ReadOnlyOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyOrderWi, ReadOnlyOrderItemWi>
+	{
+		public ReadOnlyOrderItemWiOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyOrderItemWiOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ReadOnlyOrderWi plainValueOf(ReadOnlyOrderItemWi _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected ReadOnlyOrderWiList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyOrderItemWiList)_obj).getOrders();
+		}
+	}
+
+	public static Operation eq(ReadOnlyOrderItemWi other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ReadOnlyOrderItemWiSingleFinder<ReadOnlyOrderItemWi, Object, ReadOnlyOrderItemWi> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderItemStatusFinder.getFinderInstance(),ProductFinder.getFinderInstance(),ReadOnlyOrderWiFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderItemStatusFinder.getFinderInstance(),ProductFinder.getFinderInstance(),ReadOnlyOrderWiFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[3];
+		result[0] = quantity();
+		result[1] = originalPrice();
+		result[2] = discountPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ReadOnlyOrderItemWi");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,691 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ReadOnlyOrderItemWiImplAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy forproductInfo = new ProductInfoRhs();
+	private static final RelationshipHashStrategy fororderItemStatus = new OrderItemStatusRhs();
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class ProductInfoRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyOrderItemWiImpl _castedSrcObject = (ReadOnlyOrderItemWiImpl) _srcObject;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (!_castedSrcObject.isProductIdNull() && _castedSrcObject.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyOrderItemWiImpl _castedSrcObject = (ReadOnlyOrderItemWiImpl) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getProductId(), _castedSrcObject.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderItemStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyOrderItemWiImpl _castedSrcObject = (ReadOnlyOrderItemWiImpl) _srcObject;
+			OrderItemStatusData _castedTargetData = (OrderItemStatusData) _targetData;
+			if (_castedSrcObject.getId() == _castedTargetData.getItemId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyOrderItemWiImpl _castedSrcObject = (ReadOnlyOrderItemWiImpl) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyOrderItemWiImpl _castedSrcObject = (ReadOnlyOrderItemWiImpl) _srcObject;
+			ReadOnlyOrderWiImpl _castedTargetData = (ReadOnlyOrderWiImpl) _targetData;
+			if (!_castedSrcObject.isOrderIdNull() && _castedSrcObject.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyOrderItemWiImpl _castedSrcObject = (ReadOnlyOrderItemWiImpl) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getOrderId(), _castedSrcObject.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private byte isNullBits0 = 0;
+	private double discountPrice;
+	private int id;
+	private int orderId;
+	private double originalPrice;
+	private int productId;
+	private double quantity;
+	private String state;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStateNull()
+	{
+		return this.getState() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isQuantityNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeDouble(this.discountPrice);
+		out.writeInt(this.id);
+		out.writeInt(this.orderId);
+		out.writeDouble(this.originalPrice);
+		out.writeInt(this.productId);
+		out.writeDouble(this.quantity);
+		out.writeObject(this.state);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	private int _classUpdateCount;
+	private Object __order;
+	public MithraDataObject zGetCurrentData()
+	{
+		ReadOnlyOrderItemWiData data = new ReadOnlyOrderItemWiData();
+		data.setDiscountPrice(discountPrice);
+		data.setId(id);
+		data.setOrderId(orderId);
+		data.setOriginalPrice(originalPrice);
+		data.setProductId(productId);
+		data.setQuantity(quantity);
+		data.setState(state);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public ReadOnlyOrderItemWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ReadOnlyOrderItemWiImplAbstract copy = (ReadOnlyOrderItemWiImplAbstract) ReadOnlyOrderItemWiFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ReadOnlyOrderItemWiImpl)copy;
+	}
+
+	protected void zSetFromReadOnlyOrderItemWiData(ReadOnlyOrderItemWiData data)
+	{
+		this.setFromReadOnlyOrderItemWiData(data);
+	}
+
+	public void setFromReadOnlyOrderItemWiData(ReadOnlyOrderItemWiData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		discountPrice = data.getDiscountPrice();
+		id = data.getId();
+		orderId = data.getOrderId();
+		originalPrice = data.getOriginalPrice();
+		productId = data.getProductId();
+		quantity = data.getQuantity();
+		state = data.getState();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReadOnlyOrderItemWiFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromReadOnlyOrderItemWiData((ReadOnlyOrderItemWiData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public double getDiscountPrice()
+	{
+		if (isDiscountPriceNull()) throwNullPrimitiveException("discountPrice");
+		return this.discountPrice;
+	}
+
+	public void setDiscountPrice(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.discountPrice = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public int getOrderId()
+	{
+		if (isOrderIdNull()) throwNullPrimitiveException("orderId");
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.orderId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public double getOriginalPrice()
+	{
+		if (isOriginalPriceNull()) throwNullPrimitiveException("originalPrice");
+		return this.originalPrice;
+	}
+
+	public void setOriginalPrice(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.originalPrice = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getProductId()
+	{
+		if (isProductIdNull()) throwNullPrimitiveException("productId");
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.productId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public double getQuantity()
+	{
+		if (isQuantityNull()) throwNullPrimitiveException("quantity");
+		return this.quantity;
+	}
+
+	public void setQuantity(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.quantity = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public String getState()
+	{
+		return this.state;
+	}
+
+	public void setState(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.state = StringPool.getInstance().getOrAddToCache(value, ReadOnlyOrderItemWiFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setOrderIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setProductIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setQuantityNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	protected void zClearAllDirectRefs()
+	{
+		__order = null;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public Product getProductInfo()
+	{
+		Product _result = null;
+		if (_relationships != null)
+		{
+			_result = (Product)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isProductIdNull())
+			{
+				_portal = ProductFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forproductInfo, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+				if (_related == null)
+				{
+					_result = ProductFinder.zFindOneForRelationship(zGetProductInfoOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = OrderItemStatus.itemId</pre>
+	* @return The order item status
+	*/
+	public OrderItemStatus getOrderItemStatus()
+	{
+		OrderItemStatus _result = null;
+		if (_relationships != null)
+		{
+			_result = (OrderItemStatus)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = OrderItemStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fororderItemStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderItemStatus) _related;
+				if (_related == null)
+				{
+					_result = OrderItemStatusFinder.zFindOneForRelationship(zGetOrderItemStatusOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyOrderWi.orderId</pre>
+	* @see ReadOnlyOrderWi#getItems() reverse relationship ReadOnlyOrderWi.getItems()
+	* @return The order
+	*/
+	public ReadOnlyOrderWi getOrder()
+	{
+		ReadOnlyOrderWiImpl _result = null;
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isOrderIdNull())
+			{
+				_portal = ReadOnlyOrderWiFinder.getMithraObjectPortal();
+				if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+				{
+					int _currentCount = ReadOnlyOrderItemWiFinder.getMithraObjectPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this._classUpdateCount == _currentCount)
+					{
+						Object o = this.__order;
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (ReadOnlyOrderWiImpl) _portal.unwrapRelatedObject(this, o, null, null);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						this.zClearAllDirectRefs();
+						this._classUpdateCount = _currentCount;
+					}
+				}
+
+				Object _related = _portal.getAsOneFromCache(this, null, fororder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_result = ReadOnlyOrderWiFinder.zFindOneForRelationship(zGetOrderOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+			{
+				this.__order = _portal.wrapRelatedObject(_result);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setProductInfo(Product productInfo)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = productInfo;
+		if (productInfo == null)
+		{
+			this.setProductIdNull();
+		}
+		else
+		{
+			this.setProductId(productInfo.getProductId());
+		}
+	}
+
+	public void setOrderItemStatus(OrderItemStatus orderItemStatus)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = orderItemStatus;
+	}
+
+	public Operation zGetProductInfoOperation()
+	{
+		ReadOnlyOrderItemWiImplAbstract _data = this;
+		return ProductFinder.productId().eq(_data.getProductId());
+	}
+
+	public Operation zGetOrderItemStatusOperation()
+	{
+		ReadOnlyOrderItemWiImplAbstract _data = this;
+		return OrderItemStatusFinder.itemId().eq(_data.getId());
+	}
+
+	public Operation zGetOrderOperation()
+	{
+		ReadOnlyOrderItemWiImplAbstract _data = this;
+		return ReadOnlyOrderWiFinder.orderId().eq(_data.getOrderId());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ReadOnlyOrderItemWiData readOnlyOrderItemWiData = (ReadOnlyOrderItemWiData) newData;
+		if (isNullBits0 != readOnlyOrderItemWiData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (discountPrice != readOnlyOrderItemWiData.getDiscountPrice())
+		{
+			return true;
+		}
+
+		if (orderId != readOnlyOrderItemWiData.getOrderId())
+		{
+			return true;
+		}
+
+		if (originalPrice != readOnlyOrderItemWiData.getOriginalPrice())
+		{
+			return true;
+		}
+
+		if (productId != readOnlyOrderItemWiData.getProductId())
+		{
+			return true;
+		}
+
+		if (quantity != readOnlyOrderItemWiData.getQuantity())
+		{
+			return true;
+		}
+
+		if (!isStateNull() ? !getState().equals(readOnlyOrderItemWiData.getState()) : !readOnlyOrderItemWiData.isStateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.discountPrice = in.readDouble();
+			this.id = in.readInt();
+			this.orderId = in.readInt();
+			this.originalPrice = in.readDouble();
+			this.productId = in.readInt();
+			this.quantity = in.readDouble();
+			this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ReadOnlyOrderItemWiFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ReadOnlyOrderItemWiFinder.id().eq(this.getId());
+			return ReadOnlyOrderItemWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
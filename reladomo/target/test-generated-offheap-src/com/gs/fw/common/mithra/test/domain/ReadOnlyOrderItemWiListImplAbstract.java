@@ -0,0 +1,139 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ReadOnlyOrderItemWiListImplAbstract extends DelegatingList<ReadOnlyOrderItemWi> implements MithraList<ReadOnlyOrderItemWi>
+{
+	public ReadOnlyOrderItemWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ReadOnlyOrderItemWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ReadOnlyOrderItemWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ReadOnlyOrderItemWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ReadOnlyOrderItemWi[] elements()
+	{
+		ReadOnlyOrderItemWi[] result = new ReadOnlyOrderItemWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ReadOnlyOrderItemWiListImpl intersection(ReadOnlyOrderItemWiListImpl another)
+	{
+		return (ReadOnlyOrderItemWiListImpl)super.intersection(another);
+	}
+
+	public ReadOnlyOrderItemWiImpl getReadOnlyOrderItemWiAt(int index)
+	{
+		return (ReadOnlyOrderItemWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public ProductList getProductInfos()
+	{
+		return (ProductList) this.zGetDelegated().resolveRelationship(this, ReadOnlyOrderItemWiFinder.productInfo());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = OrderItemStatus.itemId</pre>
+	* @return The order item status
+	*/
+	public OrderItemStatusList getOrderItemStatus()
+	{
+		return (OrderItemStatusList) this.zGetDelegated().resolveRelationship(this, ReadOnlyOrderItemWiFinder.orderItemStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyOrderWi.orderId</pre>
+	* @see ReadOnlyOrderWi#getItems() reverse relationship ReadOnlyOrderWi.getItems()
+	* @return The order
+	*/
+	public ReadOnlyOrderWiList getOrders()
+	{
+		return (ReadOnlyOrderWiList) this.zGetDelegated().resolveRelationship(this, ReadOnlyOrderItemWiFinder.order());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReadOnlyOrderItemWiFinder.getMithraObjectPortal();
+	}
+
+	public ReadOnlyOrderItemWiListImpl getNonPersistentCopy()
+	{
+		ReadOnlyOrderItemWiListImpl result = new ReadOnlyOrderItemWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ReadOnlyOrderItemWiListImpl asAdhoc()
+	{
+		return (ReadOnlyOrderItemWiListImpl) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ReadOnlyOrderItemWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,404 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ReadOnlyOrderStatusWiImplAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyOrderStatusWiImpl _castedSrcObject = (ReadOnlyOrderStatusWiImpl) _srcObject;
+			ReadOnlyOrderWiImpl _castedTargetData = (ReadOnlyOrderWiImpl) _targetData;
+			if (_castedSrcObject.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyOrderStatusWiImpl _castedSrcObject = (ReadOnlyOrderStatusWiImpl) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private byte isNullBits0 = 0;
+	private Timestamp lastUpdateTime;
+	private String lastUser;
+	private int orderId;
+	private int status;
+	public boolean isLastUpdateTimeNull()
+	{
+		return this.getLastUpdateTime() == null;
+	}
+
+	public boolean isLastUserNull()
+	{
+		return this.getLastUser() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStatusNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastUpdateTime);
+		out.writeObject(this.lastUser);
+		out.writeInt(this.orderId);
+		out.writeInt(this.status);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ReadOnlyOrderStatusWiData data = new ReadOnlyOrderStatusWiData();
+		data.setLastUpdateTime(lastUpdateTime);
+		data.setLastUser(lastUser);
+		data.setOrderId(orderId);
+		data.setStatus(status);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public ReadOnlyOrderStatusWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ReadOnlyOrderStatusWiImplAbstract copy = (ReadOnlyOrderStatusWiImplAbstract) ReadOnlyOrderStatusWiFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ReadOnlyOrderStatusWiImpl)copy;
+	}
+
+	protected void zSetFromReadOnlyOrderStatusWiData(ReadOnlyOrderStatusWiData data)
+	{
+		this.setFromReadOnlyOrderStatusWiData(data);
+	}
+
+	public void setFromReadOnlyOrderStatusWiData(ReadOnlyOrderStatusWiData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		lastUpdateTime = data.getLastUpdateTime();
+		lastUser = data.getLastUser();
+		orderId = data.getOrderId();
+		status = data.getStatus();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReadOnlyOrderStatusWiFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromReadOnlyOrderStatusWiData((ReadOnlyOrderStatusWiData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		return this.lastUpdateTime;
+	}
+
+	public void setLastUpdateTime(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(value, ReadOnlyOrderStatusWiFinder.isFullCache());
+	}
+
+	public String getLastUser()
+	{
+		return this.lastUser;
+	}
+
+	public void setLastUser(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.lastUser = StringPool.getInstance().getOrAddToCache(value, ReadOnlyOrderStatusWiFinder.isFullCache());
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.orderId = value;
+	}
+
+	public int getStatus()
+	{
+		if (isStatusNull()) throwNullPrimitiveException("status");
+		return this.status;
+	}
+
+	public void setStatus(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.status = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setStatusNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyOrderWi.orderId</pre>
+	* @see ReadOnlyOrderWi#getOrderStatus() reverse relationship ReadOnlyOrderWi.getOrderStatus()
+	* @return The order
+	*/
+	public ReadOnlyOrderWi getOrder()
+	{
+		ReadOnlyOrderWiImpl _result = null;
+		if (_relationships != null)
+		{
+			_result = (ReadOnlyOrderWiImpl)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = ReadOnlyOrderWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fororder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyOrderWiImpl) _related;
+				if (_related == null)
+				{
+					_result = ReadOnlyOrderWiFinder.zFindOneForRelationship(zGetOrderOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setOrder(ReadOnlyOrderWi order)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = order;
+		if (order == null)
+		{
+			this.setOrderId(0);
+		}
+		else
+		{
+			this.setOrderId(order.getOrderId());
+		}
+	}
+
+	public Operation zGetOrderOperation()
+	{
+		ReadOnlyOrderStatusWiImplAbstract _data = this;
+		return ReadOnlyOrderWiFinder.orderId().eq(_data.getOrderId());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ReadOnlyOrderStatusWiData readOnlyOrderStatusWiData = (ReadOnlyOrderStatusWiData) newData;
+		if (isNullBits0 != readOnlyOrderStatusWiData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (!isLastUpdateTimeNull() ? !getLastUpdateTime().equals(readOnlyOrderStatusWiData.getLastUpdateTime()) : !readOnlyOrderStatusWiData.isLastUpdateTimeNull())
+		{
+			return true;
+		}
+
+		if (!isLastUserNull() ? !getLastUser().equals(readOnlyOrderStatusWiData.getLastUser()) : !readOnlyOrderStatusWiData.isLastUserNull())
+		{
+			return true;
+		}
+
+		if (status != readOnlyOrderStatusWiData.getStatus())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "orderId: "+(""+getOrderId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.orderId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.lastUpdateTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ReadOnlyOrderStatusWiFinder.isFullCache(), ReadOnlyOrderStatusWiFinder.isOffHeap());
+			this.lastUser = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ReadOnlyOrderStatusWiFinder.isFullCache());
+			this.orderId = in.readInt();
+			this.status = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.orderId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ReadOnlyOrderStatusWiFinder.orderId().eq(this.getOrderId());
+			return ReadOnlyOrderStatusWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
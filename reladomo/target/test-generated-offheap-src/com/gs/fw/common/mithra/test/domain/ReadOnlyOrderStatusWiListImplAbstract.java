@@ -0,0 +1,119 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ReadOnlyOrderStatusWiListImplAbstract extends DelegatingList<ReadOnlyOrderStatusWi> implements MithraList<ReadOnlyOrderStatusWi>
+{
+	public ReadOnlyOrderStatusWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ReadOnlyOrderStatusWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ReadOnlyOrderStatusWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ReadOnlyOrderStatusWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ReadOnlyOrderStatusWi[] elements()
+	{
+		ReadOnlyOrderStatusWi[] result = new ReadOnlyOrderStatusWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ReadOnlyOrderStatusWiListImpl intersection(ReadOnlyOrderStatusWiListImpl another)
+	{
+		return (ReadOnlyOrderStatusWiListImpl)super.intersection(another);
+	}
+
+	public ReadOnlyOrderStatusWiImpl getReadOnlyOrderStatusWiAt(int index)
+	{
+		return (ReadOnlyOrderStatusWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyOrderWi.orderId</pre>
+	* @see ReadOnlyOrderWi#getOrderStatus() reverse relationship ReadOnlyOrderWi.getOrderStatus()
+	* @return The order
+	*/
+	public ReadOnlyOrderWiList getOrders()
+	{
+		return (ReadOnlyOrderWiList) this.zGetDelegated().resolveRelationship(this, ReadOnlyOrderStatusWiFinder.order());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReadOnlyOrderStatusWiFinder.getMithraObjectPortal();
+	}
+
+	public ReadOnlyOrderStatusWiListImpl getNonPersistentCopy()
+	{
+		ReadOnlyOrderStatusWiListImpl result = new ReadOnlyOrderStatusWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ReadOnlyOrderStatusWiListImpl asAdhoc()
+	{
+		return (ReadOnlyOrderStatusWiListImpl) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ReadOnlyOrderStatusWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,34 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyOrderWiAbstract
+{
+	String getDescription();
+	void setDescription(String newValue);
+	boolean isDescriptionNull();
+	Timestamp getOrderDate();
+	void setOrderDate(Timestamp newValue);
+	boolean isOrderDateNull();
+	int getOrderId();
+	void setOrderId(int newValue);
+	boolean isOrderIdNull();
+	String getState();
+	void setState(String newValue);
+	boolean isStateNull();
+	String getTrackingId();
+	void setTrackingId(String newValue);
+	boolean isTrackingIdNull();
+	int getUserId();
+	void setUserId(int newValue);
+	boolean isUserIdNull();
+	void setUserIdNull();
+	public ReadOnlyOrderItemWiList getItems();
+	public ReadOnlyOrderStatusWi getOrderStatus();
+	public OrderItemList getItemsWithoutInterfaces();
+	public OrderStatus getOrderStatusWithoutInterfaces();
+}
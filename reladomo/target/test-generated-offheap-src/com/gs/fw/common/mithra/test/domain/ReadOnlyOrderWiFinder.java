@@ -0,0 +1,1129 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReadOnlyOrderWiFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ReadOnlyOrderWiImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ReadOnlyOrderWi";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ReadOnlyOrderWi");
+	private static final ReadOnlyOrderWiSingleFinder<ReadOnlyOrderWi, Object, ReadOnlyOrderWi> finder = new ReadOnlyOrderWiSingleFinder<ReadOnlyOrderWi, Object, ReadOnlyOrderWi>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ReadOnlyOrderWiFinder.ReadOnlyOrderWiRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("orderStatus");
+		finderMethodMap.addRelationshipName("itemsWithoutInterfaces");
+		finderMethodMap.addRelationshipName("orderStatusWithoutInterfaces");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = ReadOnlyOrderWiFinder.orderId().constructEqualityMapper(ReadOnlyOrderItemWiFinder.orderId());
+			result[1] = ReadOnlyOrderItemWiFinder.orderId().constructEqualityMapper(ReadOnlyOrderWiFinder.orderId());
+			result[2] = ReadOnlyOrderWiFinder.orderId().constructEqualityMapper(ReadOnlyOrderStatusWiFinder.orderId());
+			result[3] = ReadOnlyOrderStatusWiFinder.orderId().constructEqualityMapper(ReadOnlyOrderWiFinder.orderId());
+			result[4] = ReadOnlyOrderWiFinder.orderId().constructEqualityMapper(OrderItemFinder.orderId());
+			result[5] = OrderItemFinder.orderId().constructEqualityMapper(ReadOnlyOrderWiFinder.orderId());
+			result[6] = ReadOnlyOrderWiFinder.orderId().constructEqualityMapper(OrderStatusFinder.orderId());
+			result[7] = OrderStatusFinder.orderId().constructEqualityMapper(ReadOnlyOrderWiFinder.orderId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ReadOnlyOrderWi findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ReadOnlyOrderWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ReadOnlyOrderWiList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyOrderWiListImpl) finder.findMany(operation);
+	}
+
+	public static ReadOnlyOrderWiList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyOrderWiListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static ReadOnlyOrderWi findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ReadOnlyOrderWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static ReadOnlyOrderWi findByPrimaryKey(int orderId)
+	{
+		return finder.findByPrimaryKey(orderId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ReadOnlyOrderWiImpl _castedTargetData = (ReadOnlyOrderWiImpl) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ReadOnlyOrderWiImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ReadOnlyOrderWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ReadOnlyOrderWiRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ReadOnlyOrderWi, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private ReadOnlyOrderWiItemsFinderSubclass<ParentOwnerType> items;
+		private ReadOnlyOrderWiOrderStatusFinderSubclass<ParentOwnerType> orderStatus;
+		private ReadOnlyOrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType> itemsWithoutInterfaces;
+		private ReadOnlyOrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType> orderStatusWithoutInterfaces;
+		public ReadOnlyOrderWiRelatedFinder()
+		{
+			super();
+		}
+
+		public ReadOnlyOrderWiRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ReadOnlyOrderWiFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ReadOnlyOrderWiFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ReadOnlyOrderWiFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ReadOnlyOrderWiFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(4);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.orderStatus());
+				relatedFinders.add(this.itemsWithoutInterfaces());
+				relatedFinders.add(this.orderStatusWithoutInterfaces());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(4);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.orderStatus());
+				dependentRelatedFinders.add(this.itemsWithoutInterfaces());
+				dependentRelatedFinders.add(this.orderStatusWithoutInterfaces());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ReadOnlyOrderWi findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyOrderWiFinder.findOne(operation, false);
+		}
+
+		public ReadOnlyOrderWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyOrderWiFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ReadOnlyOrderWi> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ReadOnlyOrderWiListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends ReadOnlyOrderWi> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ReadOnlyOrderWiListImpl result = (ReadOnlyOrderWiListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ReadOnlyOrderWi> constructEmptyList()
+		{
+			return new ReadOnlyOrderWiListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -744407479;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReadOnlyOrderWiFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyOrderWiFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReadOnlyOrderWiFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(ReadOnlyOrderWiFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATE\"","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(ReadOnlyOrderWiFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(ReadOnlyOrderWiFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public ReadOnlyOrderItemWiFinder.ReadOnlyOrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, ReadOnlyOrderItemWiList, ReadOnlyOrderWi> items()
+		{
+			ReadOnlyOrderWiItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyOrderWiFinder.zGetReadOnlyOrderWiItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new ReadOnlyOrderWiItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public ReadOnlyOrderStatusWiFinder.ReadOnlyOrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyOrderStatusWi, ReadOnlyOrderWi> orderStatus()
+		{
+			ReadOnlyOrderWiOrderStatusFinderSubclass<ParentOwnerType> result = this.orderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyOrderWiFinder.zGetReadOnlyOrderWiOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new ReadOnlyOrderWiOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, ReadOnlyOrderWi> itemsWithoutInterfaces()
+		{
+			ReadOnlyOrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType> result = this.itemsWithoutInterfaces;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyOrderWiFinder.zGetReadOnlyOrderWiItemsWithoutInterfacesReverseMapper());
+				newMapper.setToMany(true);
+				result = new ReadOnlyOrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsWithoutInterfaces = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, ReadOnlyOrderWi> orderStatusWithoutInterfaces()
+		{
+			ReadOnlyOrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType> result = this.orderStatusWithoutInterfaces;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyOrderWiFinder.zGetReadOnlyOrderWiOrderStatusWithoutInterfacesReverseMapper());
+				newMapper.setToMany(false);
+				result = new ReadOnlyOrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusWithoutInterfaces = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ReadOnlyOrderWiFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ReadOnlyOrderWiFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ReadOnlyOrderWiCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ReadOnlyOrderWiRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyOrderWiList, OwnerType>
+	{
+		public ReadOnlyOrderWiCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ReadOnlyOrderWiCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ReadOnlyOrderWiCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyOrderWiCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ReadOnlyOrderWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyOrderWiRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyOrderWiList, OwnerType>
+	implements ToOneFinder
+	{
+		public ReadOnlyOrderWiSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ReadOnlyOrderWiSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ReadOnlyOrderWi other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ReadOnlyOrderWi findByPrimaryKey(int orderId)
+		{
+			ReadOnlyOrderWi _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ReadOnlyOrderWi) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ReadOnlyOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyOrderWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyOrderWiSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderWiItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructReadOnlyOrderWiItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetReadOnlyOrderWiItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructReadOnlyOrderWiItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderWiItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructReadOnlyOrderWiItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiItemsPureReverseMapper()
+	{
+		Mapper itemsMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiItemsReverseMapper()
+	{
+		Mapper itemsMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiItemsMapper()
+	{
+		Mapper itemsMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(1);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper orderStatusReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderWiOrderStatusReverseMapper()
+	{
+		if (orderStatusReverseMapper == null)
+		{
+			orderStatusReverseMapper = zConstructReadOnlyOrderWiOrderStatusReverseMapper();
+		}
+
+		return orderStatusReverseMapper;
+	}
+
+	private static Mapper orderStatusMapper = null;
+	public static Mapper zGetReadOnlyOrderWiOrderStatusMapper()
+	{
+		if (orderStatusMapper == null)
+		{
+			orderStatusMapper = zConstructReadOnlyOrderWiOrderStatusMapper();
+		}
+
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusPureReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderWiOrderStatusPureReverseMapper()
+	{
+		if (orderStatusPureReverseMapper == null)
+		{
+			orderStatusPureReverseMapper = zConstructReadOnlyOrderWiOrderStatusPureReverseMapper();
+		}
+
+		return orderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiOrderStatusPureReverseMapper()
+	{
+		Mapper orderStatusMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(2);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiOrderStatusReverseMapper()
+	{
+		Mapper orderStatusMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(2);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiOrderStatusMapper()
+	{
+		Mapper orderStatusMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(3);
+		orderStatusMapper.setName("order");
+		return orderStatusMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacesReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderWiItemsWithoutInterfacesReverseMapper()
+	{
+		if (itemsWithoutInterfacesReverseMapper == null)
+		{
+			itemsWithoutInterfacesReverseMapper = zConstructReadOnlyOrderWiItemsWithoutInterfacesReverseMapper();
+		}
+
+		return itemsWithoutInterfacesReverseMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacesMapper = null;
+	public static Mapper zGetReadOnlyOrderWiItemsWithoutInterfacesMapper()
+	{
+		if (itemsWithoutInterfacesMapper == null)
+		{
+			itemsWithoutInterfacesMapper = zConstructReadOnlyOrderWiItemsWithoutInterfacesMapper();
+		}
+
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacesPureReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderWiItemsWithoutInterfacesPureReverseMapper()
+	{
+		if (itemsWithoutInterfacesPureReverseMapper == null)
+		{
+			itemsWithoutInterfacesPureReverseMapper = zConstructReadOnlyOrderWiItemsWithoutInterfacesPureReverseMapper();
+		}
+
+		return itemsWithoutInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiItemsWithoutInterfacesPureReverseMapper()
+	{
+		Mapper itemsWithoutInterfacesMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(4);
+		itemsWithoutInterfacesMapper.setName("itemsWithoutInterfaces");
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiItemsWithoutInterfacesReverseMapper()
+	{
+		Mapper itemsWithoutInterfacesMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(4);
+		itemsWithoutInterfacesMapper.setName("itemsWithoutInterfaces");
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiItemsWithoutInterfacesMapper()
+	{
+		Mapper itemsWithoutInterfacesMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(5);
+		itemsWithoutInterfacesMapper.setName("readOnlyOrderWithInterface");
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacesReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderWiOrderStatusWithoutInterfacesReverseMapper()
+	{
+		if (orderStatusWithoutInterfacesReverseMapper == null)
+		{
+			orderStatusWithoutInterfacesReverseMapper = zConstructReadOnlyOrderWiOrderStatusWithoutInterfacesReverseMapper();
+		}
+
+		return orderStatusWithoutInterfacesReverseMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacesMapper = null;
+	public static Mapper zGetReadOnlyOrderWiOrderStatusWithoutInterfacesMapper()
+	{
+		if (orderStatusWithoutInterfacesMapper == null)
+		{
+			orderStatusWithoutInterfacesMapper = zConstructReadOnlyOrderWiOrderStatusWithoutInterfacesMapper();
+		}
+
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacesPureReverseMapper = null;
+	public static Mapper zGetReadOnlyOrderWiOrderStatusWithoutInterfacesPureReverseMapper()
+	{
+		if (orderStatusWithoutInterfacesPureReverseMapper == null)
+		{
+			orderStatusWithoutInterfacesPureReverseMapper = zConstructReadOnlyOrderWiOrderStatusWithoutInterfacesPureReverseMapper();
+		}
+
+		return orderStatusWithoutInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiOrderStatusWithoutInterfacesPureReverseMapper()
+	{
+		Mapper orderStatusWithoutInterfacesMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(6);
+		orderStatusWithoutInterfacesMapper.setName("orderStatusWithoutInterfaces");
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiOrderStatusWithoutInterfacesReverseMapper()
+	{
+		Mapper orderStatusWithoutInterfacesMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(6);
+		orderStatusWithoutInterfacesMapper.setName("orderStatusWithoutInterfaces");
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructReadOnlyOrderWiOrderStatusWithoutInterfacesMapper()
+	{
+		Mapper orderStatusWithoutInterfacesMapper = ReadOnlyOrderWiFinder.zGetConstantJoin(7);
+		orderStatusWithoutInterfacesMapper.setName("readOnlyOrderWithInterface");
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	/** maps to RO_ORDERS_WI.ORDER_ID **/
+	public static IntegerAttribute<ReadOnlyOrderWi> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to RO_ORDERS_WI.ORDER_DATE **/
+	public static TimestampAttribute<ReadOnlyOrderWi> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to RO_ORDERS_WI.USER_ID **/
+	public static IntegerAttribute<ReadOnlyOrderWi> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to RO_ORDERS_WI.DESCRIPTION **/
+	public static StringAttribute<ReadOnlyOrderWi> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to RO_ORDERS_WI."STATE" **/
+	public static StringAttribute<ReadOnlyOrderWi> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to RO_ORDERS_WI.TRACKING_ID **/
+	public static StringAttribute<ReadOnlyOrderWi> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	public static ReadOnlyOrderItemWiFinder.ReadOnlyOrderItemWiCollectionFinderForRelatedClasses<ReadOnlyOrderWi, ReadOnlyOrderItemWiList, ReadOnlyOrderWi> items()
+	{
+		return finder.items();
+	}
+
+	public static class ReadOnlyOrderWiItemsFinderSubclass<ParentOwnerType> extends ReadOnlyOrderItemWiFinder.ReadOnlyOrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, ReadOnlyOrderItemWiList, ReadOnlyOrderWi>
+	{
+		public ReadOnlyOrderWiItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyOrderWiItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ReadOnlyOrderItemWiList plainValueOf(ReadOnlyOrderWi _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected ReadOnlyOrderItemWiList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyOrderWiList)_obj).getItems();
+		}
+	}
+
+	public static ReadOnlyOrderStatusWiFinder.ReadOnlyOrderStatusWiSingleFinderForRelatedClasses<ReadOnlyOrderWi, ReadOnlyOrderStatusWi, ReadOnlyOrderWi> orderStatus()
+	{
+		return finder.orderStatus();
+	}
+
+	public static class ReadOnlyOrderWiOrderStatusFinderSubclass<ParentOwnerType> extends ReadOnlyOrderStatusWiFinder.ReadOnlyOrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyOrderStatusWi, ReadOnlyOrderWi>
+	{
+		public ReadOnlyOrderWiOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyOrderWiOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ReadOnlyOrderStatusWi plainValueOf(ReadOnlyOrderWi _obj)
+		{
+			return _obj.getOrderStatus();
+		}
+
+		protected ReadOnlyOrderStatusWiList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyOrderWiList)_obj).getOrderStatus();
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ReadOnlyOrderWi, OrderItemList, ReadOnlyOrderWi> itemsWithoutInterfaces()
+	{
+		return finder.itemsWithoutInterfaces();
+	}
+
+	public static class ReadOnlyOrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, ReadOnlyOrderWi>
+	{
+		public ReadOnlyOrderWiItemsWithoutInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsWithoutInterfaces";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyOrderWiItemsWithoutInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderItemList plainValueOf(ReadOnlyOrderWi _obj)
+		{
+			return _obj.getItemsWithoutInterfaces();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyOrderWiList)_obj).getItemsWithoutInterfaces();
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ReadOnlyOrderWi, OrderStatus, ReadOnlyOrderWi> orderStatusWithoutInterfaces()
+	{
+		return finder.orderStatusWithoutInterfaces();
+	}
+
+	public static class ReadOnlyOrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, ReadOnlyOrderWi>
+	{
+		public ReadOnlyOrderWiOrderStatusWithoutInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatusWithoutInterfaces";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ReadOnlyOrderWiOrderStatusWithoutInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderStatus plainValueOf(ReadOnlyOrderWi _obj)
+		{
+			return _obj.getOrderStatusWithoutInterfaces();
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((ReadOnlyOrderWiList)_obj).getOrderStatusWithoutInterfaces();
+		}
+	}
+
+	public static Operation eq(ReadOnlyOrderWi other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static ReadOnlyOrderWiSingleFinder<ReadOnlyOrderWi, Object, ReadOnlyOrderWi> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ReadOnlyOrderWi");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,11 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyOrderWiListAbstract extends List<ReadOnlyOrderWi>
+{
+	public ReadOnlyOrderItemWiList getItems();
+	public ReadOnlyOrderStatusWiList getOrderStatus();
+	public OrderItemList getItemsWithoutInterfaces();
+	public OrderStatusList getOrderStatusWithoutInterfaces();
+}
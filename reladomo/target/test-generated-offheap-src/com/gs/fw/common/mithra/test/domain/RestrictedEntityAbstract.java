@@ -0,0 +1,933 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class RestrictedEntityAbstract extends com.gs.fw.common.mithra.test.domain.AbstractEntityDatedCommonAbstract implements MithraDatedTransactionalObject, Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		RestrictedEntityFinder.businessDate()
+	,
+		RestrictedEntityFinder.processingDate()
+	, RestrictedEntityFinder.zGetDoubleAttributes(),RestrictedEntityFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(RestrictedEntity.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forrestrictedItem = new RestrictedItemRhs();
+	private static final class RestrictedItemRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = EntityRestrictedItemFinder.businessDate();
+		private AsOfAttribute processingDate = EntityRestrictedItemFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			RestrictedEntity _castedSrcObject = (RestrictedEntity) _srcObject;
+			RestrictedEntityData _castedSrcData = (RestrictedEntityData) _srcData;
+			EntityRestrictedItemData _castedTargetData = (EntityRestrictedItemData) _targetData;
+			if (_castedSrcData.getRestrictedItemId() == _castedTargetData.getRestrictedItemId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			RestrictedEntityData _castedSrcData = (RestrictedEntityData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRestrictedItemId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public RestrictedEntityAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, RestrictedEntityFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, RestrictedEntityFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public RestrictedEntityAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public RestrictedEntityData zSynchronizedGetData()
+	{
+		return (RestrictedEntityData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !RestrictedEntityFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !RestrictedEntityFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public RestrictedEntity zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		RestrictedEntity original = (RestrictedEntity) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public RestrictedEntity copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (RestrictedEntity) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public RestrictedEntity copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (RestrictedEntity) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			RestrictedEntityFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public RestrictedEntity getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		RestrictedEntityAbstract result = (RestrictedEntityAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (RestrictedEntity ) result;
+	}
+
+	public RestrictedEntity zFindOriginal()
+	{
+		RestrictedEntityData data = (RestrictedEntityData) this.currentData;
+		Operation op;
+		op = RestrictedEntityFinder.restrictedItemId().eq(data.getRestrictedItemId());
+		op = op.and(RestrictedEntityFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(RestrictedEntityFinder.processingDate().eq(this.getProcessingDate()));
+		return RestrictedEntityFinder.findOne(op);
+	}
+
+	public RestrictedEntity getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		RestrictedEntityAbstract result = (RestrictedEntityAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (RestrictedEntity ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public RestrictedEntity copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (RestrictedEntity) behavior.updateOriginalOrInsert(this);
+	}
+
+	public RestrictedEntity copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (RestrictedEntity) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			RestrictedEntityData data = (RestrictedEntityData) this.currentData;
+			Operation op = RestrictedEntityFinder.businessDate().eq(this.businessDate);
+			op = op.and(RestrictedEntityFinder.processingDate().eq(this.processingDate));
+			op = op.and(RestrictedEntityFinder.restrictedItemId().eq(data.getRestrictedItemId()));
+			return RestrictedEntityFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		RestrictedEntityData data = (RestrictedEntityData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && RestrictedEntityFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		RestrictedEntityData data = (RestrictedEntityData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isControlledEntryIdNull()
+	{
+		return this.zSynchronizedGetData().isControlledEntryIdNull();
+	}
+
+	public boolean isEntityIdNull()
+	{
+		return this.zSynchronizedGetData().isEntityIdNull();
+	}
+
+	public boolean isEntityNameNull()
+	{
+		return this.zSynchronizedGetData().isEntityNameNull();
+	}
+
+	public boolean isGsClientFlgNull()
+	{
+		return this.zSynchronizedGetData().isGsClientFlgNull();
+	}
+
+	public boolean isGsRoleNull()
+	{
+		return this.zSynchronizedGetData().isGsRoleNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isRestrictedItemIdNull()
+	{
+		return this.zSynchronizedGetData().isRestrictedItemIdNull();
+	}
+
+	public boolean isSideTypeNull()
+	{
+		return this.zSynchronizedGetData().isSideTypeNull();
+	}
+
+	public boolean isStatusNull()
+	{
+		return this.zSynchronizedGetData().isStatusNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedEntityFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedEntityFinder.businessDateTo(), newValue, false );
+	}
+
+	public long getControlledEntryId()
+	{
+		RestrictedEntityData data = this.zSynchronizedGetData();
+		if (data.isControlledEntryIdNull()) MithraNullPrimitiveException.throwNew("controlledEntryId", data);
+		return data.getControlledEntryId();
+	}
+
+	public void setControlledEntryId(long newValue)
+	{
+		zSetLong(RestrictedEntityFinder.controlledEntryId(), newValue, false ,true);
+	}
+
+	public void setControlledEntryIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(RestrictedEntityFinder.controlledEntryId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public int getEntityId()
+	{
+		RestrictedEntityData data = this.zSynchronizedGetData();
+		if (data.isEntityIdNull()) MithraNullPrimitiveException.throwNew("entityId", data);
+		return data.getEntityId();
+	}
+
+	public void setEntityId(int newValue)
+	{
+		zSetInteger(RestrictedEntityFinder.entityId(), newValue, false ,true);
+	}
+
+	public void setEntityIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(RestrictedEntityFinder.entityId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getEntityName()
+	{
+		return this.zSynchronizedGetData().getEntityName();
+	}
+
+	public void setEntityName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 40)
+		{
+			throw new MithraBusinessException("Attribute 'entityName' cannot exceed maximum length of 40: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.entityName(), newValue, false );
+	}
+
+	public void setEntityNameUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 40)
+		{
+			throw new MithraBusinessException("Attribute 'entityName' cannot exceed maximum length of 40: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.entityName(), newValue, false , exclusiveUntil);
+	}
+
+	public String getGsClientFlg()
+	{
+		return this.zSynchronizedGetData().getGsClientFlg();
+	}
+
+	public void setGsClientFlg(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 1)
+		{
+			throw new MithraBusinessException("Attribute 'gsClientFlg' cannot exceed maximum length of 1: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.gsClientFlg(), newValue, false );
+	}
+
+	public void setGsClientFlgUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 1)
+		{
+			throw new MithraBusinessException("Attribute 'gsClientFlg' cannot exceed maximum length of 1: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.gsClientFlg(), newValue, false , exclusiveUntil);
+	}
+
+	public String getGsRole()
+	{
+		return this.zSynchronizedGetData().getGsRole();
+	}
+
+	public void setGsRole(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'gsRole' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.gsRole(), newValue, false );
+	}
+
+	public void setGsRoleUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'gsRole' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.gsRole(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedEntityFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedEntityFinder.processingDateTo(), newValue, false );
+	}
+
+	public long getRestrictedItemId()
+	{
+		return this.zSynchronizedGetData().getRestrictedItemId();
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		zSetLong(RestrictedEntityFinder.restrictedItemId(), newValue, true ,false);
+	}
+
+	public void setRestrictedItemIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(RestrictedEntityFinder.restrictedItemId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public String getSideType()
+	{
+		return this.zSynchronizedGetData().getSideType();
+	}
+
+	public void setSideType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'sideType' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.sideType(), newValue, false );
+	}
+
+	public void setSideTypeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'sideType' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.sideType(), newValue, false , exclusiveUntil);
+	}
+
+	public String getStatus()
+	{
+		return this.zSynchronizedGetData().getStatus();
+	}
+
+	public void setStatus(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'status' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.status(), newValue, false );
+	}
+
+	public void setStatusUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'status' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(RestrictedEntityFinder.status(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, RestrictedEntityFinder.controlledEntryId(), false, mustCheckCurrent);
+		zNullify(behavior, data, RestrictedEntityFinder.entityId(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		RestrictedEntityData data2 = (RestrictedEntityData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && RestrictedEntityFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setControlledEntryIdNull()
+	{
+		zNullify(RestrictedEntityFinder.controlledEntryId(), false);
+	}
+
+	public void setControlledEntryIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(RestrictedEntityFinder.controlledEntryId(), false, exclusiveUntil);
+	}
+
+	public void setEntityIdNull()
+	{
+		zNullify(RestrictedEntityFinder.entityId(), false);
+	}
+
+	public void setEntityIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(RestrictedEntityFinder.entityId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		RestrictedEntityData _newData = (RestrictedEntityData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		RestrictedEntityData _newData = (RestrictedEntityData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		RestrictedEntityData _newData = (RestrictedEntityData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.restrictedItemId = EntityRestrictedItem.restrictedItemId</pre>
+	* @see EntityRestrictedItem#getRestrictedEntity() reverse relationship EntityRestrictedItem.getRestrictedEntity()
+	* @return The restricted item
+	*/
+	public EntityRestrictedItem getRestrictedItem()
+	{
+		EntityRestrictedItem _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		RestrictedEntityData _data = (RestrictedEntityData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = EntityRestrictedItemFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrestrictedItem,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (EntityRestrictedItem) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(RestrictedEntityFinder.restrictedItem().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getRestrictedItem() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (EntityRestrictedItem) _data.getRestrictedItem();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(RestrictedEntityFinder.restrictedItem().zGetRelationshipMultiExtractor(), this);
+					_result = EntityRestrictedItemFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (RestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+				_data.setRestrictedItem(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (EntityRestrictedItem) _data.getRestrictedItem();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(RestrictedEntityFinder.restrictedItem().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = EntityRestrictedItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRestrictedItem(EntityRestrictedItem restrictedItem)
+	{
+		((EntityRestrictedItem)restrictedItem).setRestrictedEntity((RestrictedEntity)this);
+	}
+
+	public void zSetParentContainerrestrictedItem(EntityRestrictedItemAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		RestrictedEntityData _data = (RestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setRestrictedItem(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return RestrictedEntityFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new RestrictedEntityData.RestrictedEntityDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		RestrictedEntityData data = (RestrictedEntityData) RestrictedEntityFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("RestrictedEntity has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromRestrictedEntityData( RestrictedEntityData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromRestrictedEntityData( RestrictedEntityData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) RestrictedEntityFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return RestrictedEntityFinder.getMithraObjectPortal();
+	}
+
+	public RestrictedEntity getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(RestrictedEntityAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		RestrictedEntityAbstract from = (RestrictedEntityAbstract) f;
+		RestrictedEntityData newData = from.zSynchronizedGetData();
+		if (from.isControlledEntryIdNull())
+		{
+			this.setControlledEntryIdNull();
+		}
+		else
+		{
+			this.setControlledEntryId(newData.getControlledEntryId());
+		}
+
+		if (from.isEntityIdNull())
+		{
+			this.setEntityIdNull();
+		}
+		else
+		{
+			this.setEntityId(newData.getEntityId());
+		}
+
+		this.setEntityName(newData.getEntityName());
+		this.setGsClientFlg(newData.getGsClientFlg());
+		this.setGsRole(newData.getGsRole());
+		this.setSideType(newData.getSideType());
+		this.setStatus(newData.getStatus());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		RestrictedEntityData _newData = (RestrictedEntityData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		RestrictedEntityData _newData = (RestrictedEntityData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(RestrictedEntityAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		RestrictedEntityAbstract from = (RestrictedEntityAbstract)f;
+		RestrictedEntityData newData = from.zSynchronizedGetData();
+		if (from.isControlledEntryIdNull())
+		{
+			this.setControlledEntryIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setControlledEntryIdUntil(newData.getControlledEntryId(), exclusiveUntil);
+		}
+
+		if (from.isEntityIdNull())
+		{
+			this.setEntityIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setEntityIdUntil(newData.getEntityId(), exclusiveUntil);
+		}
+
+		this.setEntityNameUntil(newData.getEntityName(), exclusiveUntil);
+		this.setGsClientFlgUntil(newData.getGsClientFlg(), exclusiveUntil);
+		this.setGsRoleUntil(newData.getGsRole(), exclusiveUntil);
+		this.setSideTypeUntil(newData.getSideType(), exclusiveUntil);
+		this.setStatusUntil(newData.getStatus(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		RestrictedEntityData newData = (RestrictedEntityData) d;
+		RestrictedEntityData data = (RestrictedEntityData) nd;
+		if (RestrictedEntityFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, RestrictedEntityFinder.controlledEntryId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, RestrictedEntityFinder.entityId(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.entityName(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.gsClientFlg(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.gsRole(), false);
+		changed |= zUpdateLong(behavior, data, newData, RestrictedEntityFinder.restrictedItemId(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.sideType(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.status(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, RestrictedEntityFinder.controlledEntryId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, RestrictedEntityFinder.entityId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.entityName(), false, until);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.gsClientFlg(), false, until);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.gsRole(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, RestrictedEntityFinder.restrictedItemId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.sideType(), false, until);
+		changed |= zUpdateString(behavior, data, newData, RestrictedEntityFinder.status(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		RestrictedEntityData data = ((RestrictedEntityData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		RestrictedEntityData data = ((RestrictedEntityData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		RestrictedEntityData data = ((RestrictedEntityData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), RestrictedEntityFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), RestrictedEntityFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		RestrictedEntityData localData = (RestrictedEntityData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
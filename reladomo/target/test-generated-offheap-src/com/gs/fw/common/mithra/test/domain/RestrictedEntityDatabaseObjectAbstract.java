@@ -0,0 +1,653 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class RestrictedEntityDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "CONTROLLED_ENTRY_ID,ENTITY_ID,ENTITY_NAME,\"STATUS\",SIDE_TYPE,GS_ROLE,GS_CLIENT_FLG,IN_DT,OUT_DT,FROM_DT,THRU_DT";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.CONTROLLED_ENTRY_ID,t0.ENTITY_ID,t0.ENTITY_NAME,t0.\"STATUS\",t0.SIDE_TYPE,t0.GS_ROLE,t0.GS_CLIENT_FLG,t0.IN_DT,t0.OUT_DT,t0.FROM_DT,t0.THRU_DT";
+	private static final String PK_WITH_ALIAS = "t0.RESTRICTED_ITEM_ID = ?";
+	private static final String PK_INDEX_COLS = "RESTRICTED_ITEM_ID";
+	protected RestrictedEntityDatabaseObjectAbstract()
+	{
+		super("RestrictedEntity", "com.gs.fw.common.mithra.test.domain.RestrictedEntityFinder",
+			12, 12,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return RestrictedEntityFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return RestrictedEntityFinder.getFinderInstance();
+	}
+
+	public static RestrictedEntityData allocateOnHeapData()
+	{
+		return new RestrictedEntityData.RestrictedEntityDataOnHeap();
+	}
+
+	public static RestrictedEntityData allocateOffHeapData()
+	{
+		return new RestrictedEntityData.RestrictedEntityDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new RestrictedEntityData.RestrictedEntityDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), RestrictedEntityFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), RestrictedEntityFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		RestrictedEntityData data = new RestrictedEntityData.RestrictedEntityDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), RestrictedEntityFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), RestrictedEntityFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(RestrictedEntityData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.RestrictedEntity", RestrictedEntityFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("RestrictedEntity"));
+			RestrictedEntityData.RestrictedEntityDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(RestrictedEntityFinder.getPrimaryKeyAttributes(), RestrictedEntityFinder.getAsOfAttributes(), this, RestrictedEntityFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(RestrictedEntityFinder.getPrimaryKeyAttributes(), RestrictedEntityFinder.getAsOfAttributes(), this, RestrictedEntityFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(RestrictedEntityFinder.getPrimaryKeyAttributes(), RestrictedEntityFinder.getAsOfAttributes(), this, RestrictedEntityFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(RestrictedEntityFinder.getPrimaryKeyAttributes(), RestrictedEntityFinder.getAsOfAttributes(), this, RestrictedEntityFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(RestrictedEntityFinder.getPrimaryKeyAttributes(), RestrictedEntityFinder.getAsOfAttributes(), this, RestrictedEntityFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(RestrictedEntityData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.RestrictedEntity", RestrictedEntityFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			RestrictedEntityData.RestrictedEntityDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(RestrictedEntityFinder.getPrimaryKeyAttributes(), RestrictedEntityFinder.getAsOfAttributes(), this, RestrictedEntityFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(RestrictedEntityFinder.getPrimaryKeyAttributes(), RestrictedEntityFinder.getAsOfAttributes(), this, RestrictedEntityFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			RestrictedEntityFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			RestrictedEntityFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			RestrictedEntity.zConfigFullTx();
+		}
+		else
+		{
+			RestrictedEntity.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateRestrictedEntityData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkRestrictedEntityData(1, (RestrictedEntityData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateRestrictedEntityPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getRestrictedEntityTableName();
+	}
+
+	public String getRestrictedEntityTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		RestrictedEntityData data = (RestrictedEntityData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (RestrictedEntityFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		RestrictedEntityData data = (RestrictedEntityData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getRestrictedItemId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == RestrictedEntityFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == RestrictedEntityFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (RestrictedEntityFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "RESTRICTED_ITEM_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.RESTRICTED_ITEM_ID,t0.CONTROLLED_ENTRY_ID,t0.ENTITY_ID,t0.ENTITY_NAME,t0.\"STATUS\",t0.SIDE_TYPE,t0.GS_ROLE,t0.GS_CLIENT_FLG,t0.IN_DT,t0.OUT_DT,t0.FROM_DT,t0.THRU_DT";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*12);
+		result.append(databaseAlias).append(".").append("RESTRICTED_ITEM_ID");
+		result.append(",").append(databaseAlias).append(".").append("CONTROLLED_ENTRY_ID");
+		result.append(",").append(databaseAlias).append(".").append("ENTITY_ID");
+		result.append(",").append(databaseAlias).append(".").append("ENTITY_NAME");
+		result.append(",").append(databaseAlias).append(".").append("\"STATUS\"");
+		result.append(",").append(databaseAlias).append(".").append("SIDE_TYPE");
+		result.append(",").append(databaseAlias).append(".").append("GS_ROLE");
+		result.append(",").append(databaseAlias).append(".").append("GS_CLIENT_FLG");
+		result.append(",").append(databaseAlias).append(".").append("IN_DT");
+		result.append(",").append(databaseAlias).append(".").append("OUT_DT");
+		result.append(",").append(databaseAlias).append(".").append("FROM_DT");
+		result.append(",").append(databaseAlias).append(".").append("THRU_DT");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public RestrictedEntityData inflateRestrictedEntityData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		RestrictedEntityData data = inflateRestrictedEntityPkData(rs, dt);
+		inflateNonPkRestrictedEntityData(2, data, rs, dt);
+		return data;
+	}
+
+	public RestrictedEntityData inflateRestrictedEntityPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		RestrictedEntityData _data = new RestrictedEntityData.RestrictedEntityDataOnHeap();
+		int _pos = 1;
+		_data.setRestrictedItemId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "restrictedItemId");
+		return _data;
+	}
+
+	public void inflateNonPkRestrictedEntityData(int _pos, RestrictedEntityData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			RestrictedEntityData _data = _datax;
+			_data.setControlledEntryId(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setControlledEntryIdNull();
+			}
+
+			_data.setEntityId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setEntityIdNull();
+			}
+
+			_data.setEntityName(trimString(_rs.getString(_pos++)));
+			_data.setStatus(trimString(_rs.getString(_pos++)));
+			_data.setSideType(trimString(_rs.getString(_pos++)));
+			_data.setGsRole(trimString(_rs.getString(_pos++)));
+			_data.setGsClientFlg(trimString(_rs.getString(_pos++)));
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				RestrictedEntityFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				RestrictedEntityFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getRestrictedEntityTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "RESTRICTED_ENTITY";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		RestrictedEntityData data = (RestrictedEntityData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getRestrictedItemId());
+		if (data.isControlledEntryIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getControlledEntryId());
+		}
+
+		if (data.isEntityIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getEntityId());
+		}
+
+		if (data.isEntityNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getEntityName());
+		}
+
+		if (data.isStatusNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getStatus());
+		}
+
+		if (data.isSideTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getSideType());
+		}
+
+		if (data.isGsRoleNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getGsRole());
+		}
+
+		if (data.isGsClientFlgNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getGsClientFlg());
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == RestrictedEntityFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateToNull())
+		{
+			throwNullAttribute("businessDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == RestrictedEntityFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "RESTRICTED_ITEM_ID,CONTROLLED_ENTRY_ID,ENTITY_ID,ENTITY_NAME,\"STATUS\",SIDE_TYPE,GS_ROLE,GS_CLIENT_FLG,IN_DT,OUT_DT,FROM_DT,THRU_DT";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_DT = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		RestrictedEntity newObject = new RestrictedEntity(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromRestrictedEntityData((RestrictedEntityData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(RestrictedEntityFinder.getMithraObjectPortal(),
+			RestrictedEntityFinder.processingDate())
+		,RestrictedEntityFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_DT = ?";
+		result += " AND ";
+		result +="OUT_DT = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		RestrictedEntityData data = (RestrictedEntityData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getRestrictedItemId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, RestrictedEntityFinder.businessDate(),
+			RestrictedEntityFinder.processingDate());
+	}
+}
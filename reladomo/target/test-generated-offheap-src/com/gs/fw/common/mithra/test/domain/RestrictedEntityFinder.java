@@ -0,0 +1,945 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class RestrictedEntityFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/RestrictedEntity";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.RestrictedEntity";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.RestrictedEntity");
+	private static final RestrictedEntitySingleFinder<RestrictedEntity, Object, RestrictedEntity> finder = new RestrictedEntitySingleFinder<RestrictedEntity, Object, RestrictedEntity>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(RestrictedEntityFinder.RestrictedEntityRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("restrictedItemId");
+		finderMethodMap.addNormalAttributeName("controlledEntryId");
+		finderMethodMap.addNormalAttributeName("entityId");
+		finderMethodMap.addNormalAttributeName("entityName");
+		finderMethodMap.addNormalAttributeName("status");
+		finderMethodMap.addNormalAttributeName("sideType");
+		finderMethodMap.addNormalAttributeName("gsRole");
+		finderMethodMap.addNormalAttributeName("gsClientFlg");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("restrictedItem");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static RestrictedEntity findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static RestrictedEntity findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static RestrictedEntityList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (RestrictedEntityList) finder.findMany(operation);
+	}
+
+	public static RestrictedEntityList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (RestrictedEntityList) finder.findManyBypassCache(operation);
+	}
+
+	private static RestrictedEntity findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (RestrictedEntity) FinderUtils.findOne(found);
+	}
+
+	public static RestrictedEntity findByPrimaryKey(long restrictedItemId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(restrictedItemId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			RestrictedEntityData _castedTargetData = (RestrictedEntityData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getRestrictedItemId())
+			{
+				return RestrictedEntityFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && RestrictedEntityFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static RestrictedEntity zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (RestrictedEntity) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class RestrictedEntityRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<RestrictedEntity, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> restrictedItemId;
+		private LongAttribute<ParentOwnerType> controlledEntryId;
+		private IntegerAttribute<ParentOwnerType> entityId;
+		private StringAttribute<ParentOwnerType> entityName;
+		private StringAttribute<ParentOwnerType> status;
+		private StringAttribute<ParentOwnerType> sideType;
+		private StringAttribute<ParentOwnerType> gsRole;
+		private StringAttribute<ParentOwnerType> gsClientFlg;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private RestrictedEntityRestrictedItemFinderSubclass<ParentOwnerType> restrictedItem;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public RestrictedEntityRelatedFinder()
+		{
+			super();
+		}
+
+		public RestrictedEntityRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.RestrictedEntityFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return RestrictedEntityFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return RestrictedEntityFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return RestrictedEntityFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[12];
+			attributes[0] = this.restrictedItemId();
+			attributes[1] = this.controlledEntryId();
+			attributes[2] = this.entityId();
+			attributes[3] = this.entityName();
+			attributes[4] = this.status();
+			attributes[5] = this.sideType();
+			attributes[6] = this.gsRole();
+			attributes[7] = this.gsClientFlg();
+			attributes[8] = this.processingDateFrom();
+			attributes[9] = this.processingDateTo();
+			attributes[10] = this.businessDateFrom();
+			attributes[11] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.restrictedItem());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public RestrictedEntity findOne(com.gs.fw.finder.Operation operation)
+		{
+			return RestrictedEntityFinder.findOne(operation, false);
+		}
+
+		public RestrictedEntity findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return RestrictedEntityFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends RestrictedEntity> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new RestrictedEntityList((Operation) operation);
+		}
+
+		public MithraList<? extends RestrictedEntity> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			RestrictedEntityList result = (RestrictedEntityList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends RestrictedEntity> constructEmptyList()
+		{
+			return new RestrictedEntityList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1403153230;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> restrictedItemId()
+		{
+			LongAttribute<ParentOwnerType> result = this.restrictedItemId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("RESTRICTED_ITEM_ID","","restrictedItemId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedLongAttribute(RestrictedEntityFinder.restrictedItemId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("restrictedItem");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "EntityRestrictedItem", "restrictedEntity");
+				this.restrictedItemId = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> controlledEntryId()
+		{
+			LongAttribute<ParentOwnerType> result = this.controlledEntryId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("CONTROLLED_ENTRY_ID","","controlledEntryId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,32,4,0,false, false) :
+					new MappedLongAttribute(RestrictedEntityFinder.controlledEntryId(), this.mapper, this.zGetValueSelector());
+				this.controlledEntryId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> entityId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.entityId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ENTITY_ID","","entityId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,40,4,1,false, false) :
+					new MappedIntegerAttribute(RestrictedEntityFinder.entityId(), this.mapper, this.zGetValueSelector());
+				this.entityId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> entityName()
+		{
+			StringAttribute<ParentOwnerType> result = this.entityName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ENTITY_NAME","","entityName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,44,-1,-1,40,true, false) :
+					new MappedStringAttribute(RestrictedEntityFinder.entityName(), this.mapper, this.zGetValueSelector());
+				this.entityName = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> status()
+		{
+			StringAttribute<ParentOwnerType> result = this.status;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"STATUS\"","","status",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,76,-1,-1,10,true, false) :
+					new MappedStringAttribute(RestrictedEntityFinder.status(), this.mapper, this.zGetValueSelector());
+				this.status = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> sideType()
+		{
+			StringAttribute<ParentOwnerType> result = this.sideType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("SIDE_TYPE","","sideType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,72,-1,-1,10,true, false) :
+					new MappedStringAttribute(RestrictedEntityFinder.sideType(), this.mapper, this.zGetValueSelector());
+				this.sideType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> gsRole()
+		{
+			StringAttribute<ParentOwnerType> result = this.gsRole;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("GS_ROLE","","gsRole",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,52,-1,-1,10,true, false) :
+					new MappedStringAttribute(RestrictedEntityFinder.gsRole(), this.mapper, this.zGetValueSelector());
+				this.gsRole = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> gsClientFlg()
+		{
+			StringAttribute<ParentOwnerType> result = this.gsClientFlg;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("GS_CLIENT_FLG","","gsClientFlg",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,48,-1,-1,1,true, false) :
+					new MappedStringAttribute(RestrictedEntityFinder.gsClientFlg(), this.mapper, this.zGetValueSelector());
+				this.gsClientFlg = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_DT","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,56,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,RestrictedEntityFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(RestrictedEntityFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_DT","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,64,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,RestrictedEntityFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(RestrictedEntityFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_DT","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,RestrictedEntityFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(RestrictedEntityFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_DT","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,RestrictedEntityFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(RestrictedEntityFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),RestrictedEntityFinder.businessDateInfinity,false,true,RestrictedEntityFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(RestrictedEntityFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),RestrictedEntityFinder.processingDateInfinity,false,false,RestrictedEntityFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(RestrictedEntityFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public EntityRestrictedItemFinder.EntityRestrictedItemSingleFinderForRelatedClasses<ParentOwnerType, EntityRestrictedItem, RestrictedEntity> restrictedItem()
+		{
+			RestrictedEntityRestrictedItemFinderSubclass<ParentOwnerType> result = this.restrictedItem;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EntityRestrictedItemFinder.zGetEntityRestrictedItemRestrictedEntityMapper());
+				newMapper.setToMany(false);
+				result = new RestrictedEntityRestrictedItemFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.restrictedItem = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return RestrictedEntityFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return RestrictedEntityFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class RestrictedEntityCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends RestrictedEntityRelatedFinder<ParentOwnerType, ReturnType, RestrictedEntityList, OwnerType>
+	{
+		public RestrictedEntityCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class RestrictedEntityCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends RestrictedEntityCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public RestrictedEntityCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class RestrictedEntitySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends RestrictedEntityRelatedFinder<ParentOwnerType, ReturnType, RestrictedEntityList, OwnerType>
+	implements ToOneFinder
+	{
+		public RestrictedEntitySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public RestrictedEntitySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(RestrictedEntity other)
+		{
+			return this.restrictedItemId().eq(other.getRestrictedItemId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public RestrictedEntity findByPrimaryKey(long restrictedItemId, Timestamp businessDate, Timestamp processingDate)
+		{
+			RestrictedEntity _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(restrictedItemId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (RestrictedEntity) _related;
+			if (_related == null)
+			{
+				_op = this.restrictedItemId().eq(restrictedItemId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class RestrictedEntitySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends RestrictedEntitySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public RestrictedEntitySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to RESTRICTED_ENTITY.RESTRICTED_ITEM_ID **/
+	public static LongAttribute<RestrictedEntity> restrictedItemId()
+	{
+		return finder.restrictedItemId();
+	}
+
+	/** maps to RESTRICTED_ENTITY.CONTROLLED_ENTRY_ID **/
+	public static LongAttribute<RestrictedEntity> controlledEntryId()
+	{
+		return finder.controlledEntryId();
+	}
+
+	/** maps to RESTRICTED_ENTITY.ENTITY_ID **/
+	public static IntegerAttribute<RestrictedEntity> entityId()
+	{
+		return finder.entityId();
+	}
+
+	/** maps to RESTRICTED_ENTITY.ENTITY_NAME **/
+	public static StringAttribute<RestrictedEntity> entityName()
+	{
+		return finder.entityName();
+	}
+
+	/** maps to RESTRICTED_ENTITY."STATUS" **/
+	public static StringAttribute<RestrictedEntity> status()
+	{
+		return finder.status();
+	}
+
+	/** maps to RESTRICTED_ENTITY.SIDE_TYPE **/
+	public static StringAttribute<RestrictedEntity> sideType()
+	{
+		return finder.sideType();
+	}
+
+	/** maps to RESTRICTED_ENTITY.GS_ROLE **/
+	public static StringAttribute<RestrictedEntity> gsRole()
+	{
+		return finder.gsRole();
+	}
+
+	/** maps to RESTRICTED_ENTITY.GS_CLIENT_FLG **/
+	public static StringAttribute<RestrictedEntity> gsClientFlg()
+	{
+		return finder.gsClientFlg();
+	}
+
+	/** maps to RESTRICTED_ENTITY.IN_DT **/
+	public static TimestampAttribute<RestrictedEntity> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to RESTRICTED_ENTITY.OUT_DT **/
+	public static TimestampAttribute<RestrictedEntity> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to RESTRICTED_ENTITY.FROM_DT **/
+	public static TimestampAttribute<RestrictedEntity> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to RESTRICTED_ENTITY.THRU_DT **/
+	public static TimestampAttribute<RestrictedEntity> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<RestrictedEntity> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<RestrictedEntity> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static EntityRestrictedItemFinder.EntityRestrictedItemSingleFinderForRelatedClasses<RestrictedEntity, EntityRestrictedItem, RestrictedEntity> restrictedItem()
+	{
+		return finder.restrictedItem();
+	}
+
+	public static class RestrictedEntityRestrictedItemFinderSubclass<ParentOwnerType> extends EntityRestrictedItemFinder.EntityRestrictedItemSingleFinderForRelatedClasses<ParentOwnerType, EntityRestrictedItem, RestrictedEntity>
+	{
+		public RestrictedEntityRestrictedItemFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "restrictedItem";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				EntityRestrictedItemFinder.restrictedItemId(),
+				EntityRestrictedItemFinder.businessDate(),
+				EntityRestrictedItemFinder.processingDate()).withExtractors(
+				RestrictedEntityFinder.restrictedItemId(),
+				RestrictedEntityFinder.businessDate(),
+				RestrictedEntityFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new RestrictedEntityRestrictedItemFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected EntityRestrictedItem plainValueOf(RestrictedEntity _obj)
+		{
+			return _obj.getRestrictedItem();
+		}
+
+		protected EntityRestrictedItemList plainListValueOf(Object _obj)
+		{
+			return ((RestrictedEntityList)_obj).getRestrictedItems();
+		}
+	}
+
+	public static Operation eq(RestrictedEntity other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(restrictedItemId());
+	}
+
+	public static RestrictedEntitySingleFinder<RestrictedEntity, Object, RestrictedEntity> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedItemId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedItemId()
+			, restrictedItemId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.RestrictedEntity");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,225 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class RestrictedEntityListAbstract extends DelegatingList<RestrictedEntity> implements MithraDatedTransactionalList<RestrictedEntity>
+{
+	public RestrictedEntityListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public RestrictedEntityListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public RestrictedEntityListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public RestrictedEntityListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public RestrictedEntity[] elements()
+	{
+		RestrictedEntity[] result = new RestrictedEntity[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public RestrictedEntityList intersection(RestrictedEntityList another)
+	{
+		return (RestrictedEntityList)super.intersection(another);
+	}
+
+	public RestrictedEntity getRestrictedEntityAt(int index)
+	{
+		return (RestrictedEntity)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.restrictedItemId = EntityRestrictedItem.restrictedItemId</pre>
+	* @see EntityRestrictedItem#getRestrictedEntity() reverse relationship EntityRestrictedItem.getRestrictedEntity()
+	* @return The restricted item
+	*/
+	public EntityRestrictedItemList getRestrictedItems()
+	{
+		return (EntityRestrictedItemList) this.zGetDelegated().resolveRelationship(this, RestrictedEntityFinder.restrictedItem());
+	}
+
+	public void zSetParentContainerrestrictedItem(EntityRestrictedItemAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			RestrictedEntity item = this.getRestrictedEntityAt(i);
+			item.zSetParentContainerrestrictedItem(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return RestrictedEntityFinder.getMithraObjectPortal();
+	}
+
+	public RestrictedEntityList getNonPersistentCopy()
+	{
+		RestrictedEntityList result = new RestrictedEntityList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public RestrictedEntityList asAdhoc()
+	{
+		return (RestrictedEntityList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<RestrictedEntity> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public RestrictedEntityList merge(MithraTransactionalList<RestrictedEntity> incoming, TopLevelMergeOptions<RestrictedEntity> mergeOptions)
+	{
+		return (RestrictedEntityList) super.merge(incoming, mergeOptions);
+	}
+
+	public RestrictedEntityList getDetachedCopy()
+	{
+		RestrictedEntityList result = new RestrictedEntityList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		zSetLong(RestrictedEntityFinder.restrictedItemId(), newValue);
+	}
+
+	public void setControlledEntryId(long newValue)
+	{
+		zSetLong(RestrictedEntityFinder.controlledEntryId(), newValue);
+	}
+
+	public void setEntityId(int newValue)
+	{
+		zSetInteger(RestrictedEntityFinder.entityId(), newValue);
+	}
+
+	public void setEntityName(String newValue)
+	{
+		zSetString(RestrictedEntityFinder.entityName(), newValue);
+	}
+
+	public void setStatus(String newValue)
+	{
+		zSetString(RestrictedEntityFinder.status(), newValue);
+	}
+
+	public void setSideType(String newValue)
+	{
+		zSetString(RestrictedEntityFinder.sideType(), newValue);
+	}
+
+	public void setGsRole(String newValue)
+	{
+		zSetString(RestrictedEntityFinder.gsRole(), newValue);
+	}
+
+	public void setGsClientFlg(String newValue)
+	{
+		zSetString(RestrictedEntityFinder.gsClientFlg(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedEntityFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedEntityFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedEntityFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedEntityFinder.businessDateTo(), newValue);
+	}
+
+	public void setControlledEntryIdNull()
+	{
+		zSetAttributeNull(RestrictedEntityFinder.controlledEntryId());
+	}
+
+	public void setEntityIdNull()
+	{
+		zSetAttributeNull(RestrictedEntityFinder.entityId());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
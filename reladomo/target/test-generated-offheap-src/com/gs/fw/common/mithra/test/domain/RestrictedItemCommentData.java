@@ -0,0 +1,429 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class RestrictedItemCommentData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private String comment;
+	private Timestamp fromDt;
+	private long itemCommentId;
+	private long restrictedItemId;
+	private Timestamp thruDt;
+	private String updateBy;
+	public boolean isCommentNull()
+	{
+		return this.getComment() == null;
+	}
+
+	public boolean isFromDtNull()
+	{
+		return this.getFromDt() == null;
+	}
+
+	public boolean isItemCommentIdNull()
+	{
+		return false;
+	}
+
+	public boolean isThruDtNull()
+	{
+		return this.getThruDt() == null;
+	}
+
+	public boolean isUpdateByNull()
+	{
+		return this.getUpdateBy() == null;
+	}
+
+	public boolean isRestrictedItemIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.comment);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.fromDt);
+		out.writeLong(this.itemCommentId);
+		out.writeBoolean(_isItemCommentIdSet);
+		out.writeLong(this.restrictedItemId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.thruDt);
+		out.writeObject(this.updateBy);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getComment()
+	{
+		return this.comment;
+	}
+
+	public int zGetCommentAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(comment);
+	}
+
+	public void setComment(String value)
+	{
+		this.comment = StringPool.getInstance().getOrAddToCache(value, RestrictedItemCommentFinder.isFullCache());
+	}
+
+	public void setCommentNull()
+	{
+		this.setComment(null);
+	}
+
+	public Timestamp getFromDt()
+	{
+		return this.fromDt;
+	}
+
+	public long zGetFromDtAsLong()
+	{
+		if (fromDt == null) return TimestampPool.OFF_HEAP_NULL;
+		return fromDt.getTime();
+	}
+
+	public void setFromDt(Timestamp value)
+	{
+		this.fromDt = TimestampPool.getInstance().getOrAddToCache(value, RestrictedItemCommentFinder.isFullCache(), RestrictedItemCommentFinder.isOffHeap());
+	}
+
+	public void setFromDtNull()
+	{
+		this.setFromDt(null);
+	}
+
+	public long getItemCommentId()
+	{
+		return this.itemCommentId;
+	}
+
+	public void setItemCommentId(long value)
+	{
+		this.itemCommentId = value;
+		_isItemCommentIdSet = true;
+	}
+
+	public void setItemCommentIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public long getRestrictedItemId()
+	{
+		return this.restrictedItemId;
+	}
+
+	public void setRestrictedItemId(long value)
+	{
+		this.restrictedItemId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public Timestamp getThruDt()
+	{
+		return this.thruDt;
+	}
+
+	public long zGetThruDtAsLong()
+	{
+		if (thruDt == null) return TimestampPool.OFF_HEAP_NULL;
+		return thruDt.getTime();
+	}
+
+	public void setThruDt(Timestamp value)
+	{
+		this.thruDt = TimestampPool.getInstance().getOrAddToCache(value, RestrictedItemCommentFinder.isFullCache(), RestrictedItemCommentFinder.isOffHeap());
+	}
+
+	public void setThruDtNull()
+	{
+		this.setThruDt(null);
+	}
+
+	public String getUpdateBy()
+	{
+		return this.updateBy;
+	}
+
+	public int zGetUpdateByAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(updateBy);
+	}
+
+	public void setUpdateBy(String value)
+	{
+		this.updateBy = StringPool.getInstance().getOrAddToCache(value, RestrictedItemCommentFinder.isFullCache());
+	}
+
+	public void setUpdateByNull()
+	{
+		this.setUpdateBy(null);
+	}
+
+	public void setRestrictedItemIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	public boolean _isItemCommentIdSet;
+	public boolean zGetIsItemCommentIdSet()
+	{
+		return _isItemCommentIdSet;
+	}
+
+	protected void copyInto(RestrictedItemCommentData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.comment = this.comment;
+		copy.fromDt = this.fromDt;
+		copy.itemCommentId = this.itemCommentId;
+		copy.restrictedItemId = this.restrictedItemId;
+		copy.thruDt = this.thruDt;
+		copy.updateBy = this.updateBy;
+		copy._isItemCommentIdSet = this._isItemCommentIdSet;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.comment = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictedItemCommentFinder.isFullCache());
+		this.fromDt = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), RestrictedItemCommentFinder.isFullCache(), RestrictedItemCommentFinder.isOffHeap());
+		this.itemCommentId = in.readLong();
+		_isItemCommentIdSet = in.readBoolean();
+		this.restrictedItemId = in.readLong();
+		this.thruDt = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), RestrictedItemCommentFinder.isFullCache(), RestrictedItemCommentFinder.isOffHeap());
+		this.updateBy = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictedItemCommentFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final RestrictedItemCommentData otherData = (RestrictedItemCommentData) other;
+		if (getItemCommentId() != otherData.getItemCommentId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.itemCommentId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.itemCommentId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final RestrictedItemCommentData restrictedItemCommentData = (RestrictedItemCommentData) newData;
+		this.setComment(restrictedItemCommentData.getComment());
+		this.setFromDt(restrictedItemCommentData.getFromDt());
+		this.setRestrictedItemId(restrictedItemCommentData.getRestrictedItemId());
+		if (restrictedItemCommentData.isRestrictedItemIdNull()) this.setRestrictedItemIdNull();
+		this.setThruDt(restrictedItemCommentData.getThruDt());
+		this.setUpdateBy(restrictedItemCommentData.getUpdateBy());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final RestrictedItemCommentData other = (RestrictedItemCommentData) newData;
+		if (!isCommentNull() ? !getComment().equals(other.getComment()) : !other.isCommentNull())
+		{
+			return true;
+		}
+
+		if (!isFromDtNull() ? !getFromDt().equals(other.getFromDt()) : !other.isFromDtNull())
+		{
+			return true;
+		}
+
+		if ( isRestrictedItemIdNull() != other.isRestrictedItemIdNull() || getRestrictedItemId() != other.getRestrictedItemId())
+		{
+			return true;
+		}
+
+		if (!isThruDtNull() ? !getThruDt().equals(other.getThruDt()) : !other.isThruDtNull())
+		{
+			return true;
+		}
+
+		if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		RestrictedItemCommentData copy = new RestrictedItemCommentData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		RestrictedItemCommentData copy = new RestrictedItemCommentData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "itemCommentId: "+(""+getItemCommentId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.RestrictedItemCommentData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return RestrictedItemCommentFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return RestrictedItemCommentFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.RestrictedItemCommentData";
+	}
+}
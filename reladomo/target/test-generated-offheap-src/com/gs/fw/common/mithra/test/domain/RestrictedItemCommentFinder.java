@@ -0,0 +1,698 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class RestrictedItemCommentFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/RestrictedItemComment";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.RestrictedItemComment";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.RestrictedItemComment");
+	private static final RestrictedItemCommentSingleFinder<RestrictedItemComment, Object, RestrictedItemComment> finder = new RestrictedItemCommentSingleFinder<RestrictedItemComment, Object, RestrictedItemComment>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(RestrictedItemCommentFinder.RestrictedItemCommentRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("itemCommentId");
+		finderMethodMap.addNormalAttributeName("restrictedItemId");
+		finderMethodMap.addNormalAttributeName("comment");
+		finderMethodMap.addNormalAttributeName("fromDt");
+		finderMethodMap.addNormalAttributeName("thruDt");
+		finderMethodMap.addNormalAttributeName("updateBy");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static RestrictedItemComment findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static RestrictedItemComment findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static RestrictedItemCommentList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (RestrictedItemCommentList) finder.findMany(operation);
+	}
+
+	public static RestrictedItemCommentList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (RestrictedItemCommentList) finder.findManyBypassCache(operation);
+	}
+
+	private static RestrictedItemComment findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (RestrictedItemComment) FinderUtils.findOne(found);
+	}
+
+	public static RestrictedItemComment findByPrimaryKey(long itemCommentId)
+	{
+		return finder.findByPrimaryKey(itemCommentId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			RestrictedItemCommentData _castedTargetData = (RestrictedItemCommentData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getItemCommentId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static RestrictedItemComment zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (RestrictedItemComment) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class RestrictedItemCommentRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<RestrictedItemComment, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> itemCommentId;
+		private LongAttribute<ParentOwnerType> restrictedItemId;
+		private StringAttribute<ParentOwnerType> comment;
+		private TimestampAttribute<ParentOwnerType> fromDt;
+		private TimestampAttribute<ParentOwnerType> thruDt;
+		private StringAttribute<ParentOwnerType> updateBy;
+		public RestrictedItemCommentRelatedFinder()
+		{
+			super();
+		}
+
+		public RestrictedItemCommentRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.RestrictedItemCommentFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return RestrictedItemCommentFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return RestrictedItemCommentFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return RestrictedItemCommentFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.itemCommentId();
+			attributes[1] = this.restrictedItemId();
+			attributes[2] = this.comment();
+			attributes[3] = this.fromDt();
+			attributes[4] = this.thruDt();
+			attributes[5] = this.updateBy();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public RestrictedItemComment findOne(com.gs.fw.finder.Operation operation)
+		{
+			return RestrictedItemCommentFinder.findOne(operation, false);
+		}
+
+		public RestrictedItemComment findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return RestrictedItemCommentFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends RestrictedItemComment> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new RestrictedItemCommentList((Operation) operation);
+		}
+
+		public MithraList<? extends RestrictedItemComment> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			RestrictedItemCommentList result = (RestrictedItemCommentList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends RestrictedItemComment> constructEmptyList()
+		{
+			return new RestrictedItemCommentList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1508715320;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> itemCommentId()
+		{
+			LongAttribute<ParentOwnerType> result = this.itemCommentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("ITEM_COMMENT_ID","","itemCommentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,true, false) :
+					new MappedLongAttribute(RestrictedItemCommentFinder.itemCommentId(), this.mapper, this.zGetValueSelector());
+				this.itemCommentId = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> restrictedItemId()
+		{
+			LongAttribute<ParentOwnerType> result = this.restrictedItemId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("RESTRICTED_ITEM_ID","","restrictedItemId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(RestrictedItemCommentFinder.restrictedItemId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "EntityRestrictedItem", "comments");
+				this.restrictedItemId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> comment()
+		{
+			StringAttribute<ParentOwnerType> result = this.comment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"COMMENT\"","","comment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,4000,true, false) :
+					new MappedStringAttribute(RestrictedItemCommentFinder.comment(), this.mapper, this.zGetValueSelector());
+				this.comment = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> fromDt()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.fromDt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_DT","","fromDt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(RestrictedItemCommentFinder.fromDt(), this.mapper, this.zGetValueSelector());
+				this.fromDt = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> thruDt()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.thruDt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_DT","","thruDt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(RestrictedItemCommentFinder.thruDt(), this.mapper, this.zGetValueSelector());
+				this.thruDt = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> updateBy()
+		{
+			StringAttribute<ParentOwnerType> result = this.updateBy;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("UPDATE_BY","","updateBy",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,30,true, false) :
+					new MappedStringAttribute(RestrictedItemCommentFinder.updateBy(), this.mapper, this.zGetValueSelector());
+				this.updateBy = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return RestrictedItemCommentFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return RestrictedItemCommentFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class RestrictedItemCommentCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends RestrictedItemCommentRelatedFinder<ParentOwnerType, ReturnType, RestrictedItemCommentList, OwnerType>
+	{
+		public RestrictedItemCommentCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class RestrictedItemCommentCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends RestrictedItemCommentCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public RestrictedItemCommentCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class RestrictedItemCommentSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends RestrictedItemCommentRelatedFinder<ParentOwnerType, ReturnType, RestrictedItemCommentList, OwnerType>
+	implements ToOneFinder
+	{
+		public RestrictedItemCommentSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public RestrictedItemCommentSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(RestrictedItemComment other)
+		{
+			return this.itemCommentId().eq(other.getItemCommentId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public RestrictedItemComment findByPrimaryKey(long itemCommentId)
+		{
+			RestrictedItemComment _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(itemCommentId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (RestrictedItemComment) _related;
+			if (_related == null)
+			{
+				_op = this.itemCommentId().eq(itemCommentId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class RestrictedItemCommentSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends RestrictedItemCommentSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public RestrictedItemCommentSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to RESTRICTED_ITEM_COMMENT.ITEM_COMMENT_ID **/
+	public static LongAttribute<RestrictedItemComment> itemCommentId()
+	{
+		return finder.itemCommentId();
+	}
+
+	/** maps to RESTRICTED_ITEM_COMMENT.RESTRICTED_ITEM_ID **/
+	public static LongAttribute<RestrictedItemComment> restrictedItemId()
+	{
+		return finder.restrictedItemId();
+	}
+
+	/** maps to RESTRICTED_ITEM_COMMENT."COMMENT" **/
+	public static StringAttribute<RestrictedItemComment> comment()
+	{
+		return finder.comment();
+	}
+
+	/** maps to RESTRICTED_ITEM_COMMENT.FROM_DT **/
+	public static TimestampAttribute<RestrictedItemComment> fromDt()
+	{
+		return finder.fromDt();
+	}
+
+	/** maps to RESTRICTED_ITEM_COMMENT.THRU_DT **/
+	public static TimestampAttribute<RestrictedItemComment> thruDt()
+	{
+		return finder.thruDt();
+	}
+
+	/** maps to RESTRICTED_ITEM_COMMENT.UPDATE_BY **/
+	public static StringAttribute<RestrictedItemComment> updateBy()
+	{
+		return finder.updateBy();
+	}
+
+	public static Operation eq(RestrictedItemComment other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(itemCommentId());
+	}
+
+	public static RestrictedItemCommentSingleFinder<RestrictedItemComment, Object, RestrictedItemComment> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			itemCommentId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			itemCommentId()
+			, itemCommentId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			restrictedItemId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.RestrictedItemComment");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,165 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class RestrictedItemCommentListAbstract extends DelegatingList<RestrictedItemComment> implements MithraTransactionalList<RestrictedItemComment>
+{
+	public RestrictedItemCommentListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public RestrictedItemCommentListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public RestrictedItemCommentListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public RestrictedItemCommentListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public RestrictedItemComment[] elements()
+	{
+		RestrictedItemComment[] result = new RestrictedItemComment[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public RestrictedItemCommentList intersection(RestrictedItemCommentList another)
+	{
+		return (RestrictedItemCommentList)super.intersection(another);
+	}
+
+	public RestrictedItemComment getRestrictedItemCommentAt(int index)
+	{
+		return (RestrictedItemComment)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return RestrictedItemCommentFinder.getMithraObjectPortal();
+	}
+
+	public RestrictedItemCommentList getNonPersistentCopy()
+	{
+		RestrictedItemCommentList result = new RestrictedItemCommentList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public RestrictedItemCommentList asAdhoc()
+	{
+		return (RestrictedItemCommentList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<RestrictedItemComment> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public RestrictedItemCommentList merge(MithraTransactionalList<RestrictedItemComment> incoming, TopLevelMergeOptions<RestrictedItemComment> mergeOptions)
+	{
+		return (RestrictedItemCommentList) super.merge(incoming, mergeOptions);
+	}
+
+	public RestrictedItemCommentList getDetachedCopy()
+	{
+		RestrictedItemCommentList result = new RestrictedItemCommentList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)RestrictedItemCommentFinder.itemCommentId(), false, "RestrictedItemComment_Sequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setItemCommentId(long newValue)
+	{
+		zSetLong(RestrictedItemCommentFinder.itemCommentId(), newValue);
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		zSetLong(RestrictedItemCommentFinder.restrictedItemId(), newValue);
+	}
+
+	public void setComment(String newValue)
+	{
+		zSetString(RestrictedItemCommentFinder.comment(), newValue);
+	}
+
+	public void setFromDt(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedItemCommentFinder.fromDt(), newValue);
+	}
+
+	public void setThruDt(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedItemCommentFinder.thruDt(), newValue);
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		zSetString(RestrictedItemCommentFinder.updateBy(), newValue);
+	}
+
+	public void setRestrictedItemIdNull()
+	{
+		zSetAttributeNull(RestrictedItemCommentFinder.restrictedItemId());
+	}
+}
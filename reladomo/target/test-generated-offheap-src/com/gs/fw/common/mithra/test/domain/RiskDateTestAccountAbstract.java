@@ -0,0 +1,309 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class RiskDateTestAccountAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(RiskDateTestAccount.class.getName());
+	public RiskDateTestAccountAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public RiskDateTestAccount getDetachedCopy() throws MithraBusinessException
+	{
+		return (RiskDateTestAccount) super.getDetachedCopy();
+	}
+
+	public RiskDateTestAccount getNonPersistentCopy() throws MithraBusinessException
+	{
+		RiskDateTestAccount result = (RiskDateTestAccount) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public RiskDateTestAccount copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (RiskDateTestAccount) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public RiskDateTestAccount zFindOriginal()
+	{
+		RiskDateTestAccountData data = (RiskDateTestAccountData) this.currentData;
+		Operation op;
+		op = RiskDateTestAccountFinder.id().eq(data.getId());
+		return RiskDateTestAccountFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new RiskDateTestAccountData();
+	}
+
+	protected void zSetFromRiskDateTestAccountData( RiskDateTestAccountData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromRiskDateTestAccountData( RiskDateTestAccountData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAccountNumberNull()
+	{
+		return ((RiskDateTestAccountData) this.zSynchronizedGetData()).isAccountNumberNull();
+	}
+
+	public String getAccountNumber()
+	{
+		RiskDateTestAccountData data = (RiskDateTestAccountData) this.zSynchronizedGetData();
+		return data.getAccountNumber();
+	}
+
+	public void setAccountNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'accountNumber' cannot exceed maximum length of 10: " + newValue);
+		zSetString(RiskDateTestAccountFinder.accountNumber(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((RiskDateTestAccountData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		RiskDateTestAccountData data = (RiskDateTestAccountData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(RiskDateTestAccountFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isRiskDateNull()
+	{
+		return ((RiskDateTestAccountData) this.zSynchronizedGetData()).isRiskDateNull();
+	}
+
+	public Date getRiskDate()
+	{
+		RiskDateTestAccountData data = (RiskDateTestAccountData) this.zSynchronizedGetData();
+		return data.getRiskDate();
+	}
+
+	public void setRiskDate(Date newValue)
+	{
+		zSetDate(RiskDateTestAccountFinder.riskDate(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		RiskDateTestAccountData _newData = (RiskDateTestAccountData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		RiskDateTestAccountData _newData = (RiskDateTestAccountData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RiskDateTestAccountData _newData = (RiskDateTestAccountData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public RiskDateTestAccount zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		RiskDateTestAccount original = (RiskDateTestAccount) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return RiskDateTestAccountFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return RiskDateTestAccountFinder.getMithraObjectPortal();
+	}
+
+	public RiskDateTestAccount getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, RiskDateTestAccountFinder.accountNumber(), false);
+		changed |= zUpdateDate(behavior, data, newData, RiskDateTestAccountFinder.riskDate(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, RiskDateTestAccountFinder.id(), false);
+		return changed;
+	}
+
+	public int generateAndSetId()
+	{
+		int nextValue =(int) this.generateId();
+		this.setId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		RiskDateTestAccountData data = (RiskDateTestAccountData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsIdSet();
+	}
+
+	protected int generateId()
+	{
+		Object sourceAttribute = null;
+		RiskDateTestAccountFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("RiskTestSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (int)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RiskDateTestAccountData data = (RiskDateTestAccountData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsIdSet())
+		{
+			data.setId(generateId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		RiskDateTestAccountAbstract result = (RiskDateTestAccountAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,313 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class RiskDateTestAccountData
+implements MithraDataObject
+{
+	private String accountNumber;
+	private int id;
+	private Date riskDate;
+	public boolean isAccountNumberNull()
+	{
+		return this.getAccountNumber() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isRiskDateNull()
+	{
+		return this.getRiskDate() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountNumber);
+		out.writeInt(this.id);
+		out.writeBoolean(_isIdSet);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.riskDate);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getAccountNumber()
+	{
+		return this.accountNumber;
+	}
+
+	public int zGetAccountNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountNumber);
+	}
+
+	public void setAccountNumber(String value)
+	{
+		this.accountNumber = StringPool.getInstance().getOrAddToCache(value, RiskDateTestAccountFinder.isFullCache());
+	}
+
+	public void setAccountNumberNull()
+	{
+		this.setAccountNumber(null);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+		_isIdSet = true;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Date getRiskDate()
+	{
+		return this.riskDate;
+	}
+
+	public void setRiskDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.riskDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.riskDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setRiskDateNull()
+	{
+		this.setRiskDate(null);
+	}
+
+	public boolean _isIdSet;
+	public boolean zGetIsIdSet()
+	{
+		return _isIdSet;
+	}
+
+	protected void copyInto(RiskDateTestAccountData copy, boolean withRelationships)
+	{
+		copy.accountNumber = this.accountNumber;
+		copy.id = this.id;
+		copy.riskDate = this.riskDate;
+		copy._isIdSet = this._isIdSet;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RiskDateTestAccountFinder.isFullCache());
+		this.id = in.readInt();
+		_isIdSet = in.readBoolean();
+		this.riskDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final RiskDateTestAccountData otherData = (RiskDateTestAccountData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final RiskDateTestAccountData riskDateTestAccountData = (RiskDateTestAccountData) newData;
+		this.setAccountNumber(riskDateTestAccountData.getAccountNumber());
+		this.setRiskDate(riskDateTestAccountData.getRiskDate());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final RiskDateTestAccountData other = (RiskDateTestAccountData) newData;
+		if (!isAccountNumberNull() ? !getAccountNumber().equals(other.getAccountNumber()) : !other.isAccountNumberNull())
+		{
+			return true;
+		}
+
+		if (!isRiskDateNull() ? !getRiskDate().equals(other.getRiskDate()) : !other.isRiskDateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		RiskDateTestAccountData copy = new RiskDateTestAccountData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		RiskDateTestAccountData copy = new RiskDateTestAccountData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.RiskDateTestAccountData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return RiskDateTestAccountFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return RiskDateTestAccountFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.RiskDateTestAccountData";
+	}
+}
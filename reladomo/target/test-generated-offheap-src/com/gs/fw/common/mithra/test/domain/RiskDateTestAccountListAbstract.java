@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class RiskDateTestAccountListAbstract extends DelegatingList<RiskDateTestAccount> implements MithraTransactionalList<RiskDateTestAccount>
+{
+	public RiskDateTestAccountListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public RiskDateTestAccountListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public RiskDateTestAccountListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public RiskDateTestAccountListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public RiskDateTestAccount[] elements()
+	{
+		RiskDateTestAccount[] result = new RiskDateTestAccount[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public RiskDateTestAccountList intersection(RiskDateTestAccountList another)
+	{
+		return (RiskDateTestAccountList)super.intersection(another);
+	}
+
+	public RiskDateTestAccount getRiskDateTestAccountAt(int index)
+	{
+		return (RiskDateTestAccount)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return RiskDateTestAccountFinder.getMithraObjectPortal();
+	}
+
+	public RiskDateTestAccountList getNonPersistentCopy()
+	{
+		RiskDateTestAccountList result = new RiskDateTestAccountList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public RiskDateTestAccountList asAdhoc()
+	{
+		return (RiskDateTestAccountList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<RiskDateTestAccount> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public RiskDateTestAccountList merge(MithraTransactionalList<RiskDateTestAccount> incoming, TopLevelMergeOptions<RiskDateTestAccount> mergeOptions)
+	{
+		return (RiskDateTestAccountList) super.merge(incoming, mergeOptions);
+	}
+
+	public RiskDateTestAccountList getDetachedCopy()
+	{
+		RiskDateTestAccountList result = new RiskDateTestAccountList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)RiskDateTestAccountFinder.id(), false, "RiskTestSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(RiskDateTestAccountFinder.id(), newValue);
+	}
+
+	public void setRiskDate(Date newValue)
+	{
+		zSetDate(RiskDateTestAccountFinder.riskDate(), newValue);
+	}
+
+	public void setAccountNumber(String newValue)
+	{
+		zSetString(RiskDateTestAccountFinder.accountNumber(), newValue);
+	}
+}
@@ -0,0 +1,165 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class RiskValueTestAccountListAbstract extends DelegatingList<RiskValueTestAccount> implements MithraTransactionalList<RiskValueTestAccount>
+{
+	public RiskValueTestAccountListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public RiskValueTestAccountListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public RiskValueTestAccountListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public RiskValueTestAccountListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public RiskValueTestAccount[] elements()
+	{
+		RiskValueTestAccount[] result = new RiskValueTestAccount[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public RiskValueTestAccountList intersection(RiskValueTestAccountList another)
+	{
+		return (RiskValueTestAccountList)super.intersection(another);
+	}
+
+	public RiskValueTestAccount getRiskValueTestAccountAt(int index)
+	{
+		return (RiskValueTestAccount)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return RiskValueTestAccountFinder.getMithraObjectPortal();
+	}
+
+	public RiskValueTestAccountList getNonPersistentCopy()
+	{
+		RiskValueTestAccountList result = new RiskValueTestAccountList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public RiskValueTestAccountList asAdhoc()
+	{
+		return (RiskValueTestAccountList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<RiskValueTestAccount> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public RiskValueTestAccountList merge(MithraTransactionalList<RiskValueTestAccount> incoming, TopLevelMergeOptions<RiskValueTestAccount> mergeOptions)
+	{
+		return (RiskValueTestAccountList) super.merge(incoming, mergeOptions);
+	}
+
+	public RiskValueTestAccountList getDetachedCopy()
+	{
+		RiskValueTestAccountList result = new RiskValueTestAccountList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)RiskValueTestAccountFinder.id(), false, "RiskTestSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(RiskValueTestAccountFinder.id(), newValue);
+	}
+
+	public void setRiskDateAccountId(int newValue)
+	{
+		zSetInteger(RiskValueTestAccountFinder.riskDateAccountId(), newValue);
+	}
+
+	public void setRiskPointId(int newValue)
+	{
+		zSetInteger(RiskValueTestAccountFinder.riskPointId(), newValue);
+	}
+
+	public void setRiskValue(double newValue)
+	{
+		zSetDouble(RiskValueTestAccountFinder.riskValue(), newValue);
+	}
+
+	public void setRiskDateAccountIdNull()
+	{
+		zSetAttributeNull(RiskValueTestAccountFinder.riskDateAccountId());
+	}
+
+	public void setRiskPointIdNull()
+	{
+		zSetAttributeNull(RiskValueTestAccountFinder.riskPointId());
+	}
+
+	public void setRiskValueNull()
+	{
+		zSetAttributeNull(RiskValueTestAccountFinder.riskValue());
+	}
+}
@@ -0,0 +1,1043 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class SaleAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Sale.class.getName());
+	private static final RelationshipHashStrategy forseller = new SellerRhs();
+	private static final class SellerRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			SaleData _castedSrcData = (SaleData) _srcData;
+			SellerData _castedTargetData = (SellerData) _targetData;
+			if (!_castedSrcData.isSellerIdNull() && _castedSrcData.getSellerId() == _castedTargetData.getSellerId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			SaleData _castedSrcData = (SaleData) _srcData;
+			return HashUtil.hash(_castedSrcData.getSellerId(), _castedSrcData.isSellerIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public SaleAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Sale getDetachedCopy() throws MithraBusinessException
+	{
+		return (Sale) super.getDetachedCopy();
+	}
+
+	public Sale getNonPersistentCopy() throws MithraBusinessException
+	{
+		Sale result = (Sale) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Sale copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Sale) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Sale zFindOriginal()
+	{
+		SaleData data = (SaleData) this.currentData;
+		Operation op;
+		op = SaleFinder.saleId().eq(data.getSaleId());
+		return SaleFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		if(isWishListItemsModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new SaleData();
+	}
+
+	protected void zSetFromSaleData( SaleData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromSaleData( SaleData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isActiveBooleanNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isActiveBooleanNull();
+	}
+
+	public boolean isActiveBoolean()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		if (data.isActiveBooleanNull()) MithraNullPrimitiveException.throwNew("activeBoolean", data);
+		return data.isActiveBoolean();
+	}
+
+	public void setActiveBoolean(boolean newValue)
+	{
+		zSetBoolean(SaleFinder.activeBoolean(), newValue, false, false ,true);
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(SaleFinder.description(), newValue, false, false );
+	}
+
+	public boolean isDiscountPercentageNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isDiscountPercentageNull();
+	}
+
+	public double getDiscountPercentage()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		if (data.isDiscountPercentageNull()) MithraNullPrimitiveException.throwNew("discountPercentage", data);
+		return data.getDiscountPercentage();
+	}
+
+	public void setDiscountPercentage(double newValue)
+	{
+		zSetDouble(SaleFinder.discountPercentage(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableBigDecimalNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isNullableBigDecimalNull();
+	}
+
+	public BigDecimal getNullableBigDecimal()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		return data.getNullableBigDecimal();
+	}
+
+	public void setNullableBigDecimal(BigDecimal newValue)
+	{
+		zSetBigDecimal(SaleFinder.nullableBigDecimal(), newValue, false, false );
+	}
+
+	public boolean isNullableBooleanNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isNullableBooleanNull();
+	}
+
+	public boolean isNullableBoolean()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		if (data.isNullableBooleanNull()) MithraNullPrimitiveException.throwNew("nullableBoolean", data);
+		return data.isNullableBoolean();
+	}
+
+	public void setNullableBoolean(boolean newValue)
+	{
+		zSetBoolean(SaleFinder.nullableBoolean(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableDateNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isNullableDateNull();
+	}
+
+	public Date getNullableDate()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		return data.getNullableDate();
+	}
+
+	public void setNullableDate(Date newValue)
+	{
+		zSetDate(SaleFinder.nullableDate(), newValue, false, false );
+	}
+
+	public boolean isNullableDoubleNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isNullableDoubleNull();
+	}
+
+	public double getNullableDouble()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		if (data.isNullableDoubleNull()) MithraNullPrimitiveException.throwNew("nullableDouble", data);
+		return data.getNullableDouble();
+	}
+
+	public void setNullableDouble(double newValue)
+	{
+		zSetDouble(SaleFinder.nullableDouble(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableIntNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isNullableIntNull();
+	}
+
+	public int getNullableInt()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		if (data.isNullableIntNull()) MithraNullPrimitiveException.throwNew("nullableInt", data);
+		return data.getNullableInt();
+	}
+
+	public void setNullableInt(int newValue)
+	{
+		zSetInteger(SaleFinder.nullableInt(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableStringNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isNullableStringNull();
+	}
+
+	public String getNullableString()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		return data.getNullableString();
+	}
+
+	public void setNullableString(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(SaleFinder.nullableString(), newValue, false, false );
+	}
+
+	public boolean isNullableTimestampNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isNullableTimestampNull();
+	}
+
+	public Timestamp getNullableTimestamp()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		return data.getNullableTimestamp();
+	}
+
+	public void setNullableTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(SaleFinder.nullableTimestamp(), newValue, false, false );
+	}
+
+	public boolean isNullableVeryBigDecimalNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isNullableVeryBigDecimalNull();
+	}
+
+	public BigDecimal getNullableVeryBigDecimal()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		return data.getNullableVeryBigDecimal();
+	}
+
+	public void setNullableVeryBigDecimal(BigDecimal newValue)
+	{
+		zSetBigDecimal(SaleFinder.nullableVeryBigDecimal(), newValue, false, false );
+	}
+
+	public boolean isSaleDateNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isSaleDateNull();
+	}
+
+	public Timestamp getSaleDate()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		return data.getSaleDate();
+	}
+
+	public void setSaleDate(Timestamp newValue)
+	{
+		zSetTimestamp(SaleFinder.saleDate(), newValue, false, false );
+	}
+
+	public boolean isSaleIdNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isSaleIdNull();
+	}
+
+	public int getSaleId()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		return data.getSaleId();
+	}
+
+	public void setSaleId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(SaleFinder.saleId(), newValue, true, false ,false);
+		if (d == null) return;
+		SaleData data = (SaleData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			SalesLineItemList items =
+			(SalesLineItemList ) data.getItems();
+			if (items != null)
+			{
+				items.setSaleId(newValue);
+			}
+
+			WishListItemList wishListItems =
+			(WishListItemList ) data.getWishListItems();
+			if (wishListItems != null)
+			{
+				wishListItems.setSaleId(newValue);
+			}
+		}
+	}
+
+	public boolean isSellerIdNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isSellerIdNull();
+	}
+
+	public int getSellerId()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		if (data.isSellerIdNull()) MithraNullPrimitiveException.throwNew("sellerId", data);
+		return data.getSellerId();
+	}
+
+	public void setSellerId(int newValue)
+	{
+		zSetInteger(SaleFinder.sellerId(), newValue, false, false ,true);
+	}
+
+	public boolean isSettleDateNull()
+	{
+		return ((SaleData) this.zSynchronizedGetData()).isSettleDateNull();
+	}
+
+	public Date getSettleDate()
+	{
+		SaleData data = (SaleData) this.zSynchronizedGetData();
+		return data.getSettleDate();
+	}
+
+	public void setSettleDate(Date newValue)
+	{
+		zSetDate(SaleFinder.settleDate(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, SaleFinder.sellerId(), false);
+		zNullify(behavior, data, SaleFinder.discountPercentage(), false);
+		zNullify(behavior, data, SaleFinder.activeBoolean(), false);
+		zNullify(behavior, data, SaleFinder.nullableDouble(), false);
+		zNullify(behavior, data, SaleFinder.nullableInt(), false);
+		zNullify(behavior, data, SaleFinder.nullableBoolean(), false);
+	}
+
+	public void setSellerIdNull()
+	{
+		zNullify(SaleFinder.sellerId(), false);
+	}
+
+	public void setDiscountPercentageNull()
+	{
+		zNullify(SaleFinder.discountPercentage(), false);
+	}
+
+	public void setActiveBooleanNull()
+	{
+		zNullify(SaleFinder.activeBoolean(), false);
+	}
+
+	public void setNullableDoubleNull()
+	{
+		zNullify(SaleFinder.nullableDouble(), false);
+	}
+
+	public void setNullableIntNull()
+	{
+		zNullify(SaleFinder.nullableInt(), false);
+	}
+
+	public void setNullableBooleanNull()
+	{
+		zNullify(SaleFinder.nullableBoolean(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		SaleData _newData = (SaleData) _data;
+		{
+			SalesLineItemList items =
+			(SalesLineItemList) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+
+		{
+			WishListItemList wishListItems =
+			(WishListItemList) _newData.getWishListItems();
+			if (wishListItems != null)
+			{
+				wishListItems.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		SaleData _newData = (SaleData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((SalesLineItemList)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getWishListItems() != null && !(_newData.getWishListItems() instanceof NulledRelation))
+		{
+			((WishListItemList)_newData.getWishListItems()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SaleData _newData = (SaleData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((SalesLineItemList)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getWishListItems() != null && !(_newData.getWishListItems() instanceof NulledRelation))
+		{
+			((WishListItemList)_newData.getWishListItems()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SalesLineItem.saleId = this.saleId</pre>
+	* @see SalesLineItem#getSale() reverse relationship SalesLineItem.getSale()
+	* @return items
+	*/
+	public SalesLineItemList getItems()
+	{
+		SalesLineItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = SalesLineItemFinder.saleId().eq(_data.getSaleId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (SalesLineItemList) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = SalesLineItemFinder.saleId().eq(_data.getSaleId());
+					_result = new SalesLineItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (SaleData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainersale(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (SalesLineItemList) _data.getItems();
+			if (_result == null)
+			{
+				_result = new SalesLineItemList();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (SaleData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new SalesLineItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(SalesLineItemList items)
+	{
+		SalesLineItemList _items = (SalesLineItemList) items;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(SalesLineItemFinder.saleId().eq(_data.getSaleId()),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setSaleId(_data.getSaleId());
+				_items.zSetParentContainersale(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			SalesLineItemList itemsToDelete = new SalesLineItemList();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				SalesLineItem item = _items.getSalesLineItemAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setSaleId(_data.getSaleId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForRead(this);
+		SalesLineItemList items =
+		(SalesLineItemList) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	WishListItem.saleId = this.saleId</pre>
+	* @see WishListItem#getSale() reverse relationship WishListItem.getSale()
+	* @return wish list items
+	*/
+	public WishListItemList getWishListItems()
+	{
+		WishListItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = WishListItemFinder.saleId().eq(_data.getSaleId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (WishListItemList) _data.getWishListItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = WishListItemFinder.saleId().eq(_data.getSaleId());
+					_result = new WishListItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new WishListItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (SaleData) _behavior.getCurrentDataForWrite(this);
+				_data.setWishListItems(_result);
+				if (_result != null) _result.zSetParentContainersale(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (WishListItemList) _data.getWishListItems();
+			if (_result == null)
+			{
+				_result = new WishListItemList();
+				_result.zSetAddHandler(new WishListItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (SaleData) _behavior.getCurrentDataForWrite(this);
+				_data.setWishListItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new WishListItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new WishListItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setWishListItems(WishListItemList wishListItems)
+	{
+		WishListItemList _wishListItems = (WishListItemList) wishListItems;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _wishListItems != null)
+			{
+				_wishListItems.zMakeDetached(WishListItemFinder.saleId().eq(_data.getSaleId()),
+					_data.getWishListItems());
+			}
+
+			_data.setWishListItems(_wishListItems);
+			if (_wishListItems != null)
+			{
+				_wishListItems.setSaleId(_data.getSaleId());
+				_wishListItems.zSetParentContainersale(this);
+				_wishListItems.zSetAddHandler(new WishListItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_wishListItems.zSetAddHandler(new WishListItemsAddHandlerPersisted());
+			WishListItemList wishListItemsToDelete = new WishListItemList();
+			wishListItemsToDelete.addAll(this.getWishListItems());
+			for(int i=0;i < _wishListItems.size(); i++)
+			{
+				WishListItem item = _wishListItems.getWishListItemAt(i);
+				if (!wishListItemsToDelete.remove(item))
+				{
+					item.setSaleId(_data.getSaleId());
+					item.cascadeInsert();
+				}
+			}
+
+			wishListItemsToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isWishListItemsModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForRead(this);
+		WishListItemList wishListItems =
+		(WishListItemList) _data.getWishListItems();
+		if( wishListItems != null)
+		{
+			return wishListItems.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Seller.sellerId = this.sellerId</pre>
+	* @see Seller#getSales() reverse relationship Seller.getSales()
+	* @return The seller
+	*/
+	public Seller getSeller()
+	{
+		Seller _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isSellerIdNull())
+			{
+				_portal = SellerFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forseller, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Seller) _related;
+				if (_related == null)
+				{
+					_op = SellerFinder.sellerId().eq(_data.getSellerId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isSellerIdNull())
+				{
+					Operation detachedOp = SellerFinder.sellerId().eq(_data.getSellerId());
+					_result = SellerFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Seller) _data.getSeller();
+			if (_result == null)
+			{
+				if (!_data.isSellerIdNull())
+				{
+					_op = SellerFinder.sellerId().eq(_data.getSellerId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = SellerFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setSeller(Seller seller)
+	{
+		Seller _seller = (Seller) seller;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSeller(_seller);
+			if (_seller == null)
+			{
+				this.setSellerIdNull();
+			}
+			else
+			{
+				this.setSellerId(_seller.getSellerId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_seller == null)
+			{
+				this.setSellerIdNull();
+			}
+			else
+			{
+				this.setSellerId(
+					_seller.getSellerId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForWrite(this);
+		SalesLineItemList items =
+		(SalesLineItemList) _data.getItems();
+		WishListItemList wishListItems =
+		(WishListItemList) _data.getWishListItems();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+
+		if (wishListItems != null)
+		{
+			wishListItems.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		SaleFinder.SaleRelatedFinder parentFinder = (SaleFinder.SaleRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SaleData _newData = (SaleData) _behavior.getCurrentDataForWrite(this);
+		{
+			SalesLineItemList items =
+			(SalesLineItemList) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		{
+			WishListItemList wishListItems =
+			(WishListItemList) _newData.getWishListItems();
+			RelatedFinder dependentFinder = parentFinder.wishListItems();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, wishListItems != null, navigationStats);
+			if (wishListItems != null)
+			{
+				wishListItems.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Sale zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SaleData _data = (SaleData) _behavior.getCurrentDataForWrite(this);
+		SalesLineItemList items =
+		(SalesLineItemList) _data.getItems();
+		WishListItemList wishListItems =
+		(WishListItemList) _data.getWishListItems();
+		Sale original = (Sale) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		if (wishListItems != null)
+		{
+			wishListItems.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getItems().cascadeDeleteAll();
+		this.getWishListItems().cascadeDeleteAll();
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return SaleFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SaleFinder.getMithraObjectPortal();
+	}
+
+	public Sale getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, SaleFinder.activeBoolean(), false);
+		changed |= zUpdateString(behavior, data, newData, SaleFinder.description(), false);
+		changed |= zUpdateDouble(behavior, data, newData, SaleFinder.discountPercentage(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, SaleFinder.nullableBigDecimal(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, SaleFinder.nullableBoolean(), false);
+		changed |= zUpdateDate(behavior, data, newData, SaleFinder.nullableDate(), false);
+		changed |= zUpdateDouble(behavior, data, newData, SaleFinder.nullableDouble(), false);
+		changed |= zUpdateInteger(behavior, data, newData, SaleFinder.nullableInt(), false);
+		changed |= zUpdateString(behavior, data, newData, SaleFinder.nullableString(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, SaleFinder.nullableTimestamp(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, SaleFinder.nullableVeryBigDecimal(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, SaleFinder.saleDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, SaleFinder.sellerId(), false);
+		changed |= zUpdateDate(behavior, data, newData, SaleFinder.settleDate(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, SaleFinder.saleId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		SaleAbstract result = (SaleAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			SalesLineItem item = (SalesLineItem) relatedObject;
+			item.setSaleId(getSaleId());
+			item.zSetParentContainersale(SaleAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			SalesLineItem item = (SalesLineItem) relatedObject;
+			item.setSaleId(getSaleId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class WishListItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			WishListItem item = (WishListItem) relatedObject;
+			item.setSaleId(getSaleId());
+			item.zSetParentContainersale(SaleAbstract.this);
+		}
+	}
+
+	protected class WishListItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			WishListItem item = (WishListItem) relatedObject;
+			item.setSaleId(getSaleId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,499 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SaleAggregateDataData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private BigDecimal priceBigDecimal;
+	private byte priceByte;
+	private double priceDouble;
+	private float priceFloat;
+	private int priceInt;
+	private long priceLong;
+	private short priceShort;
+	private int saleId;
+	private int sellerId;
+	public boolean isPriceBigDecimalNull()
+	{
+		return this.getPriceBigDecimal() == null;
+	}
+
+	public boolean isSaleIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSellerIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isPriceDoubleNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isPriceIntNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isPriceShortNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isPriceLongNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isPriceFloatNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isPriceByteNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.priceBigDecimal);
+		out.writeByte(this.priceByte);
+		out.writeDouble(this.priceDouble);
+		out.writeFloat(this.priceFloat);
+		out.writeInt(this.priceInt);
+		out.writeLong(this.priceLong);
+		out.writeShort(this.priceShort);
+		out.writeInt(this.saleId);
+		out.writeInt(this.sellerId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public BigDecimal getPriceBigDecimal()
+	{
+		return this.priceBigDecimal;
+	}
+
+	public void setPriceBigDecimal(BigDecimal value)
+	{
+		this.priceBigDecimal = value;
+	}
+
+	public void setPriceBigDecimalNull()
+	{
+		this.setPriceBigDecimal(null);
+	}
+
+	public byte getPriceByte()
+	{
+		return this.priceByte;
+	}
+
+	public void setPriceByte(byte value)
+	{
+		this.priceByte = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public double getPriceDouble()
+	{
+		return this.priceDouble;
+	}
+
+	public void setPriceDouble(double value)
+	{
+		this.priceDouble = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public float getPriceFloat()
+	{
+		return this.priceFloat;
+	}
+
+	public void setPriceFloat(float value)
+	{
+		this.priceFloat = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public int getPriceInt()
+	{
+		return this.priceInt;
+	}
+
+	public void setPriceInt(int value)
+	{
+		this.priceInt = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public long getPriceLong()
+	{
+		return this.priceLong;
+	}
+
+	public void setPriceLong(long value)
+	{
+		this.priceLong = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public short getPriceShort()
+	{
+		return this.priceShort;
+	}
+
+	public void setPriceShort(short value)
+	{
+		this.priceShort = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getSaleId()
+	{
+		return this.saleId;
+	}
+
+	public void setSaleId(int value)
+	{
+		this.saleId = value;
+	}
+
+	public void setSaleIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getSellerId()
+	{
+		return this.sellerId;
+	}
+
+	public void setSellerId(int value)
+	{
+		this.sellerId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setSellerIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setPriceDoubleNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setPriceIntNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setPriceShortNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setPriceLongNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setPriceFloatNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setPriceByteNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(SaleAggregateDataData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.priceBigDecimal = this.priceBigDecimal;
+		copy.priceByte = this.priceByte;
+		copy.priceDouble = this.priceDouble;
+		copy.priceFloat = this.priceFloat;
+		copy.priceInt = this.priceInt;
+		copy.priceLong = this.priceLong;
+		copy.priceShort = this.priceShort;
+		copy.saleId = this.saleId;
+		copy.sellerId = this.sellerId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.priceBigDecimal = (BigDecimal)in.readObject();
+		this.priceByte = in.readByte();
+		this.priceDouble = in.readDouble();
+		this.priceFloat = in.readFloat();
+		this.priceInt = in.readInt();
+		this.priceLong = in.readLong();
+		this.priceShort = in.readShort();
+		this.saleId = in.readInt();
+		this.sellerId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final SaleAggregateDataData otherData = (SaleAggregateDataData) other;
+		if (getSaleId() != otherData.getSaleId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.saleId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.saleId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final SaleAggregateDataData saleAggregateDataData = (SaleAggregateDataData) newData;
+		this.setPriceBigDecimal(saleAggregateDataData.getPriceBigDecimal());
+		this.setPriceByte(saleAggregateDataData.getPriceByte());
+		if (saleAggregateDataData.isPriceByteNull()) this.setPriceByteNull();
+		this.setPriceDouble(saleAggregateDataData.getPriceDouble());
+		if (saleAggregateDataData.isPriceDoubleNull()) this.setPriceDoubleNull();
+		this.setPriceFloat(saleAggregateDataData.getPriceFloat());
+		if (saleAggregateDataData.isPriceFloatNull()) this.setPriceFloatNull();
+		this.setPriceInt(saleAggregateDataData.getPriceInt());
+		if (saleAggregateDataData.isPriceIntNull()) this.setPriceIntNull();
+		this.setPriceLong(saleAggregateDataData.getPriceLong());
+		if (saleAggregateDataData.isPriceLongNull()) this.setPriceLongNull();
+		this.setPriceShort(saleAggregateDataData.getPriceShort());
+		if (saleAggregateDataData.isPriceShortNull()) this.setPriceShortNull();
+		this.setSellerId(saleAggregateDataData.getSellerId());
+		if (saleAggregateDataData.isSellerIdNull()) this.setSellerIdNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final SaleAggregateDataData other = (SaleAggregateDataData) newData;
+		if (!isPriceBigDecimalNull() ? !getPriceBigDecimal().equals(other.getPriceBigDecimal()) : !other.isPriceBigDecimalNull())
+		{
+			return true;
+		}
+
+		if ( isPriceByteNull() != other.isPriceByteNull() || getPriceByte() != other.getPriceByte())
+		{
+			return true;
+		}
+
+		if ( isPriceDoubleNull() != other.isPriceDoubleNull() || Math.abs(getPriceDouble() - other.getPriceDouble()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isPriceFloatNull() != other.isPriceFloatNull() || Math.abs(getPriceFloat() - other.getPriceFloat()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isPriceIntNull() != other.isPriceIntNull() || getPriceInt() != other.getPriceInt())
+		{
+			return true;
+		}
+
+		if ( isPriceLongNull() != other.isPriceLongNull() || getPriceLong() != other.getPriceLong())
+		{
+			return true;
+		}
+
+		if ( isPriceShortNull() != other.isPriceShortNull() || getPriceShort() != other.getPriceShort())
+		{
+			return true;
+		}
+
+		if ( isSellerIdNull() != other.isSellerIdNull() || getSellerId() != other.getSellerId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		SaleAggregateDataData copy = new SaleAggregateDataData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		SaleAggregateDataData copy = new SaleAggregateDataData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "saleId: "+(""+getSaleId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.SaleAggregateDataData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return SaleAggregateDataFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return SaleAggregateDataFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.SaleAggregateDataData";
+	}
+}
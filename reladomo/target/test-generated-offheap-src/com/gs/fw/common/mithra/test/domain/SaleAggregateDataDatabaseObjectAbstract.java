@@ -0,0 +1,526 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class SaleAggregateDataDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "SELLER_ID,PRICE_DOUBLE,PRICE_INT,PRICE_SHORT,PRICE_LONG,PRICE_FLOAT,PRICE_BYTE,PRICE_BIG_DECIMAL";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.SELLER_ID,t0.PRICE_DOUBLE,t0.PRICE_INT,t0.PRICE_SHORT,t0.PRICE_LONG,t0.PRICE_FLOAT,t0.PRICE_BYTE,t0.PRICE_BIG_DECIMAL";
+	private static final String PK_WITH_ALIAS = "t0.SALE_ID = ?";
+	private static final String PK_INDEX_COLS = "SALE_ID";
+	protected SaleAggregateDataDatabaseObjectAbstract()
+	{
+		super("SaleAggregateData", "com.gs.fw.common.mithra.test.domain.SaleAggregateDataFinder",
+			9, 9,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SaleAggregateDataFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return SaleAggregateDataFinder.getFinderInstance();
+	}
+
+	public static SaleAggregateDataData allocateOnHeapData()
+	{
+		return new SaleAggregateDataData();
+	}
+
+	public static SaleAggregateDataData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new SaleAggregateDataData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		SaleAggregateDataData data = new SaleAggregateDataData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(SaleAggregateDataFinder.getPrimaryKeyAttributes(), this, SaleAggregateDataFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(SaleAggregateDataFinder.getPrimaryKeyAttributes(), this, SaleAggregateDataFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(SaleAggregateDataFinder.getPrimaryKeyAttributes(), this, SaleAggregateDataFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(SaleAggregateDataFinder.getPrimaryKeyAttributes(), this, SaleAggregateDataFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			SaleAggregateDataFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			SaleAggregateDataFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			SaleAggregateData.zConfigFullTx();
+		}
+		else
+		{
+			SaleAggregateData.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateSaleAggregateDataData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkSaleAggregateDataData(1, (SaleAggregateDataData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateSaleAggregateDataPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getSaleAggregateDataTableName();
+	}
+
+	public String getSaleAggregateDataTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getSaleId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "SALE_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SALE_ID,t0.SELLER_ID,t0.PRICE_DOUBLE,t0.PRICE_INT,t0.PRICE_SHORT,t0.PRICE_LONG,t0.PRICE_FLOAT,t0.PRICE_BYTE,t0.PRICE_BIG_DECIMAL";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*9);
+		result.append(databaseAlias).append(".").append("SALE_ID");
+		result.append(",").append(databaseAlias).append(".").append("SELLER_ID");
+		result.append(",").append(databaseAlias).append(".").append("PRICE_DOUBLE");
+		result.append(",").append(databaseAlias).append(".").append("PRICE_INT");
+		result.append(",").append(databaseAlias).append(".").append("PRICE_SHORT");
+		result.append(",").append(databaseAlias).append(".").append("PRICE_LONG");
+		result.append(",").append(databaseAlias).append(".").append("PRICE_FLOAT");
+		result.append(",").append(databaseAlias).append(".").append("PRICE_BYTE");
+		result.append(",").append(databaseAlias).append(".").append("PRICE_BIG_DECIMAL");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public SaleAggregateDataData inflateSaleAggregateDataData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		SaleAggregateDataData data = inflateSaleAggregateDataPkData(rs, dt);
+		inflateNonPkSaleAggregateDataData(2, data, rs, dt);
+		return data;
+	}
+
+	public SaleAggregateDataData inflateSaleAggregateDataPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		SaleAggregateDataData _data = new SaleAggregateDataData();
+		int _pos = 1;
+		_data.setSaleId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "saleId");
+		return _data;
+	}
+
+	public void inflateNonPkSaleAggregateDataData(int _pos, SaleAggregateDataData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			SaleAggregateDataData _data = _datax;
+			_data.setSellerId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setSellerIdNull();
+			}
+
+			_data.setPriceDouble(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPriceDoubleNull();
+			}
+
+			_data.setPriceInt(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPriceIntNull();
+			}
+
+			_data.setPriceShort(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPriceShortNull();
+			}
+
+			_data.setPriceLong(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPriceLongNull();
+			}
+
+			_data.setPriceFloat(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPriceFloatNull();
+			}
+
+			_data.setPriceByte(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPriceByteNull();
+			}
+
+			_data.setPriceBigDecimal(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 3, 2));
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "SALEAGGREGATEDATA";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getSaleId());
+		if (data.isSellerIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getSellerId());
+		}
+
+		if (data.isPriceDoubleNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPriceDouble());
+		}
+
+		if (data.isPriceIntNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getPriceInt());
+		}
+
+		if (data.isPriceShortNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getPriceShort());
+		}
+
+		if (data.isPriceLongNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getPriceLong());
+		}
+
+		if (data.isPriceFloatNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getPriceFloat());
+		}
+
+		if (data.isPriceByteNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getPriceByte());
+		}
+
+		if (data.isPriceBigDecimalNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getPriceBigDecimal());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "SALE_ID,SELLER_ID,PRICE_DOUBLE,PRICE_INT,PRICE_SHORT,PRICE_LONG,PRICE_FLOAT,PRICE_BYTE,PRICE_BIG_DECIMAL";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		SaleAggregateData newObject = new SaleAggregateData();
+		newObject.zSetFromSaleAggregateDataData((SaleAggregateDataData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SALE_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*9);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SALE_ID");
+		return result.toString();
+	}
+}
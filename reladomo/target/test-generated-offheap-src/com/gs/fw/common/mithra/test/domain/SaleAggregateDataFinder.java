@@ -0,0 +1,759 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SaleAggregateDataFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/SaleAggregateData";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.SaleAggregateData";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.SaleAggregateData");
+	private static final SaleAggregateDataSingleFinder<SaleAggregateData, Object, SaleAggregateData> finder = new SaleAggregateDataSingleFinder<SaleAggregateData, Object, SaleAggregateData>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(SaleAggregateDataFinder.SaleAggregateDataRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("saleId");
+		finderMethodMap.addNormalAttributeName("sellerId");
+		finderMethodMap.addNormalAttributeName("priceDouble");
+		finderMethodMap.addNormalAttributeName("priceInt");
+		finderMethodMap.addNormalAttributeName("priceShort");
+		finderMethodMap.addNormalAttributeName("priceLong");
+		finderMethodMap.addNormalAttributeName("priceFloat");
+		finderMethodMap.addNormalAttributeName("priceByte");
+		finderMethodMap.addNormalAttributeName("priceBigDecimal");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static SaleAggregateData findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static SaleAggregateData findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static SaleAggregateDataList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (SaleAggregateDataList) finder.findMany(operation);
+	}
+
+	public static SaleAggregateDataList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (SaleAggregateDataList) finder.findManyBypassCache(operation);
+	}
+
+	private static SaleAggregateData findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (SaleAggregateData) FinderUtils.findOne(found);
+	}
+
+	public static SaleAggregateData findByPrimaryKey(int saleId)
+	{
+		return finder.findByPrimaryKey(saleId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			SaleAggregateDataData _castedTargetData = (SaleAggregateDataData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getSaleId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static SaleAggregateData zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (SaleAggregateData) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class SaleAggregateDataRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<SaleAggregateData, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> saleId;
+		private IntegerAttribute<ParentOwnerType> sellerId;
+		private DoubleAttribute<ParentOwnerType> priceDouble;
+		private IntegerAttribute<ParentOwnerType> priceInt;
+		private ShortAttribute<ParentOwnerType> priceShort;
+		private LongAttribute<ParentOwnerType> priceLong;
+		private FloatAttribute<ParentOwnerType> priceFloat;
+		private ByteAttribute<ParentOwnerType> priceByte;
+		private BigDecimalAttribute<ParentOwnerType> priceBigDecimal;
+		public SaleAggregateDataRelatedFinder()
+		{
+			super();
+		}
+
+		public SaleAggregateDataRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.SaleAggregateDataFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return SaleAggregateDataFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return SaleAggregateDataFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return SaleAggregateDataFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[9];
+			attributes[0] = this.saleId();
+			attributes[1] = this.sellerId();
+			attributes[2] = this.priceDouble();
+			attributes[3] = this.priceInt();
+			attributes[4] = this.priceShort();
+			attributes[5] = this.priceLong();
+			attributes[6] = this.priceFloat();
+			attributes[7] = this.priceByte();
+			attributes[8] = this.priceBigDecimal();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public SaleAggregateData findOne(com.gs.fw.finder.Operation operation)
+		{
+			return SaleAggregateDataFinder.findOne(operation, false);
+		}
+
+		public SaleAggregateData findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return SaleAggregateDataFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends SaleAggregateData> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new SaleAggregateDataList((Operation) operation);
+		}
+
+		public MithraList<? extends SaleAggregateData> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			SaleAggregateDataList result = (SaleAggregateDataList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends SaleAggregateData> constructEmptyList()
+		{
+			return new SaleAggregateDataList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 753416739;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> saleId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.saleId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SALE_ID","","saleId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SaleAggregateDataFinder.saleId(), this.mapper, this.zGetValueSelector());
+				this.saleId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sellerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sellerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SELLER_ID","","sellerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SaleAggregateDataFinder.sellerId(), this.mapper, this.zGetValueSelector());
+				this.sellerId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> priceDouble()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.priceDouble;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PRICE_DOUBLE","","priceDouble",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(SaleAggregateDataFinder.priceDouble(), this.mapper, this.zGetValueSelector());
+				this.priceDouble = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> priceInt()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.priceInt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRICE_INT","","priceInt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SaleAggregateDataFinder.priceInt(), this.mapper, this.zGetValueSelector());
+				this.priceInt = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> priceShort()
+		{
+			ShortAttribute<ParentOwnerType> result = this.priceShort;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("PRICE_SHORT","","priceShort",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(SaleAggregateDataFinder.priceShort(), this.mapper, this.zGetValueSelector());
+				this.priceShort = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> priceLong()
+		{
+			LongAttribute<ParentOwnerType> result = this.priceLong;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("PRICE_LONG","","priceLong",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(SaleAggregateDataFinder.priceLong(), this.mapper, this.zGetValueSelector());
+				this.priceLong = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> priceFloat()
+		{
+			FloatAttribute<ParentOwnerType> result = this.priceFloat;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("PRICE_FLOAT","","priceFloat",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(SaleAggregateDataFinder.priceFloat(), this.mapper, this.zGetValueSelector());
+				this.priceFloat = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> priceByte()
+		{
+			ByteAttribute<ParentOwnerType> result = this.priceByte;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("PRICE_BYTE","","priceByte",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(SaleAggregateDataFinder.priceByte(), this.mapper, this.zGetValueSelector());
+				this.priceByte = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> priceBigDecimal()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.priceBigDecimal;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("PRICE_BIG_DECIMAL","","priceBigDecimal",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,3,2, false) :
+					new MappedBigDecimalAttribute(SaleAggregateDataFinder.priceBigDecimal(), this.mapper, this.zGetValueSelector());
+				this.priceBigDecimal = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return SaleAggregateDataFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return SaleAggregateDataFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class SaleAggregateDataCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends SaleAggregateDataRelatedFinder<ParentOwnerType, ReturnType, SaleAggregateDataList, OwnerType>
+	{
+		public SaleAggregateDataCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class SaleAggregateDataCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends SaleAggregateDataCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SaleAggregateDataCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class SaleAggregateDataSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends SaleAggregateDataRelatedFinder<ParentOwnerType, ReturnType, SaleAggregateDataList, OwnerType>
+	implements ToOneFinder
+	{
+		public SaleAggregateDataSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public SaleAggregateDataSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(SaleAggregateData other)
+		{
+			return this.saleId().eq(other.getSaleId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public SaleAggregateData findByPrimaryKey(int saleId)
+		{
+			SaleAggregateData _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(saleId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (SaleAggregateData) _related;
+			if (_related == null)
+			{
+				_op = this.saleId().eq(saleId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class SaleAggregateDataSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends SaleAggregateDataSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SaleAggregateDataSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to SALEAGGREGATEDATA.SALE_ID **/
+	public static IntegerAttribute<SaleAggregateData> saleId()
+	{
+		return finder.saleId();
+	}
+
+	/** maps to SALEAGGREGATEDATA.SELLER_ID **/
+	public static IntegerAttribute<SaleAggregateData> sellerId()
+	{
+		return finder.sellerId();
+	}
+
+	/** maps to SALEAGGREGATEDATA.PRICE_DOUBLE **/
+	public static DoubleAttribute<SaleAggregateData> priceDouble()
+	{
+		return finder.priceDouble();
+	}
+
+	/** maps to SALEAGGREGATEDATA.PRICE_INT **/
+	public static IntegerAttribute<SaleAggregateData> priceInt()
+	{
+		return finder.priceInt();
+	}
+
+	/** maps to SALEAGGREGATEDATA.PRICE_SHORT **/
+	public static ShortAttribute<SaleAggregateData> priceShort()
+	{
+		return finder.priceShort();
+	}
+
+	/** maps to SALEAGGREGATEDATA.PRICE_LONG **/
+	public static LongAttribute<SaleAggregateData> priceLong()
+	{
+		return finder.priceLong();
+	}
+
+	/** maps to SALEAGGREGATEDATA.PRICE_FLOAT **/
+	public static FloatAttribute<SaleAggregateData> priceFloat()
+	{
+		return finder.priceFloat();
+	}
+
+	/** maps to SALEAGGREGATEDATA.PRICE_BYTE **/
+	public static ByteAttribute<SaleAggregateData> priceByte()
+	{
+		return finder.priceByte();
+	}
+
+	/** maps to SALEAGGREGATEDATA.PRICE_BIG_DECIMAL **/
+	public static BigDecimalAttribute<SaleAggregateData> priceBigDecimal()
+	{
+		return finder.priceBigDecimal();
+	}
+
+	public static Operation eq(SaleAggregateData other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(saleId());
+	}
+
+	public static SaleAggregateDataSingleFinder<SaleAggregateData, Object, SaleAggregateData> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			saleId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			saleId()
+			, saleId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = priceDouble();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[1];
+		result[0] = priceBigDecimal();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.SaleAggregateData");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,205 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SaleAggregateDataListAbstract extends DelegatingList<SaleAggregateData> implements MithraTransactionalList<SaleAggregateData>
+{
+	public SaleAggregateDataListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SaleAggregateDataListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SaleAggregateDataListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SaleAggregateDataListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public SaleAggregateData[] elements()
+	{
+		SaleAggregateData[] result = new SaleAggregateData[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SaleAggregateDataList intersection(SaleAggregateDataList another)
+	{
+		return (SaleAggregateDataList)super.intersection(another);
+	}
+
+	public SaleAggregateData getSaleAggregateDataAt(int index)
+	{
+		return (SaleAggregateData)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SaleAggregateDataFinder.getMithraObjectPortal();
+	}
+
+	public SaleAggregateDataList getNonPersistentCopy()
+	{
+		SaleAggregateDataList result = new SaleAggregateDataList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SaleAggregateDataList asAdhoc()
+	{
+		return (SaleAggregateDataList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<SaleAggregateData> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public SaleAggregateDataList merge(MithraTransactionalList<SaleAggregateData> incoming, TopLevelMergeOptions<SaleAggregateData> mergeOptions)
+	{
+		return (SaleAggregateDataList) super.merge(incoming, mergeOptions);
+	}
+
+	public SaleAggregateDataList getDetachedCopy()
+	{
+		SaleAggregateDataList result = new SaleAggregateDataList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setSaleId(int newValue)
+	{
+		zSetInteger(SaleAggregateDataFinder.saleId(), newValue);
+	}
+
+	public void setSellerId(int newValue)
+	{
+		zSetInteger(SaleAggregateDataFinder.sellerId(), newValue);
+	}
+
+	public void setPriceDouble(double newValue)
+	{
+		zSetDouble(SaleAggregateDataFinder.priceDouble(), newValue);
+	}
+
+	public void setPriceInt(int newValue)
+	{
+		zSetInteger(SaleAggregateDataFinder.priceInt(), newValue);
+	}
+
+	public void setPriceShort(short newValue)
+	{
+		zSetShort(SaleAggregateDataFinder.priceShort(), newValue);
+	}
+
+	public void setPriceLong(long newValue)
+	{
+		zSetLong(SaleAggregateDataFinder.priceLong(), newValue);
+	}
+
+	public void setPriceFloat(float newValue)
+	{
+		zSetFloat(SaleAggregateDataFinder.priceFloat(), newValue);
+	}
+
+	public void setPriceByte(byte newValue)
+	{
+		zSetByte(SaleAggregateDataFinder.priceByte(), newValue);
+	}
+
+	public void setPriceBigDecimal(BigDecimal newValue)
+	{
+		zSetBigDecimal(SaleAggregateDataFinder.priceBigDecimal(), newValue);
+	}
+
+	public void setSellerIdNull()
+	{
+		zSetAttributeNull(SaleAggregateDataFinder.sellerId());
+	}
+
+	public void setPriceDoubleNull()
+	{
+		zSetAttributeNull(SaleAggregateDataFinder.priceDouble());
+	}
+
+	public void setPriceIntNull()
+	{
+		zSetAttributeNull(SaleAggregateDataFinder.priceInt());
+	}
+
+	public void setPriceShortNull()
+	{
+		zSetAttributeNull(SaleAggregateDataFinder.priceShort());
+	}
+
+	public void setPriceLongNull()
+	{
+		zSetAttributeNull(SaleAggregateDataFinder.priceLong());
+	}
+
+	public void setPriceFloatNull()
+	{
+		zSetAttributeNull(SaleAggregateDataFinder.priceFloat());
+	}
+
+	public void setPriceByteNull()
+	{
+		zSetAttributeNull(SaleAggregateDataFinder.priceByte());
+	}
+}
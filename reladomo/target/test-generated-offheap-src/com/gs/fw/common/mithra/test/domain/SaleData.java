@@ -0,0 +1,800 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SaleData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private boolean activeBoolean;
+	private String description;
+	private double discountPercentage;
+	private BigDecimal nullableBigDecimal;
+	private boolean nullableBoolean;
+	private Date nullableDate;
+	private double nullableDouble;
+	private int nullableInt;
+	private String nullableString;
+	private Timestamp nullableTimestamp;
+	private BigDecimal nullableVeryBigDecimal;
+	private Timestamp saleDate;
+	private int saleId;
+	private int sellerId;
+	private Date settleDate;
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isNullableBigDecimalNull()
+	{
+		return this.getNullableBigDecimal() == null;
+	}
+
+	public boolean isNullableDateNull()
+	{
+		return this.getNullableDate() == null;
+	}
+
+	public boolean isNullableStringNull()
+	{
+		return this.getNullableString() == null;
+	}
+
+	public boolean isNullableTimestampNull()
+	{
+		return this.getNullableTimestamp() == null;
+	}
+
+	public boolean isNullableVeryBigDecimalNull()
+	{
+		return this.getNullableVeryBigDecimal() == null;
+	}
+
+	public boolean isSaleDateNull()
+	{
+		return this.getSaleDate() == null;
+	}
+
+	public boolean isSaleIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSettleDateNull()
+	{
+		return this.getSettleDate() == null;
+	}
+
+	public boolean isSellerIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isDiscountPercentageNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isActiveBooleanNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isNullableDoubleNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isNullableIntNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isNullableBooleanNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.activeBoolean);
+		out.writeObject(this.description);
+		out.writeDouble(this.discountPercentage);
+		out.writeObject(this.nullableBigDecimal);
+		out.writeBoolean(this.nullableBoolean);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.nullableDate);
+		out.writeDouble(this.nullableDouble);
+		out.writeInt(this.nullableInt);
+		out.writeObject(this.nullableString);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.nullableTimestamp);
+		out.writeObject(this.nullableVeryBigDecimal);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.saleDate);
+		out.writeInt(this.saleId);
+		out.writeInt(this.sellerId);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.settleDate);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public boolean isActiveBoolean()
+	{
+		return this.activeBoolean;
+	}
+
+	public void setActiveBoolean(boolean value)
+	{
+		this.activeBoolean = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, SaleFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public double getDiscountPercentage()
+	{
+		return this.discountPercentage;
+	}
+
+	public void setDiscountPercentage(double value)
+	{
+		this.discountPercentage = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public BigDecimal getNullableBigDecimal()
+	{
+		return this.nullableBigDecimal;
+	}
+
+	public void setNullableBigDecimal(BigDecimal value)
+	{
+		this.nullableBigDecimal = value;
+	}
+
+	public void setNullableBigDecimalNull()
+	{
+		this.setNullableBigDecimal(null);
+	}
+
+	public boolean isNullableBoolean()
+	{
+		return this.nullableBoolean;
+	}
+
+	public void setNullableBoolean(boolean value)
+	{
+		this.nullableBoolean = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public Date getNullableDate()
+	{
+		return this.nullableDate;
+	}
+
+	public void setNullableDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.nullableDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.nullableDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setNullableDateNull()
+	{
+		this.setNullableDate(null);
+	}
+
+	public double getNullableDouble()
+	{
+		return this.nullableDouble;
+	}
+
+	public void setNullableDouble(double value)
+	{
+		this.nullableDouble = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getNullableInt()
+	{
+		return this.nullableInt;
+	}
+
+	public void setNullableInt(int value)
+	{
+		this.nullableInt = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public String getNullableString()
+	{
+		return this.nullableString;
+	}
+
+	public int zGetNullableStringAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(nullableString);
+	}
+
+	public void setNullableString(String value)
+	{
+		this.nullableString = StringPool.getInstance().getOrAddToCache(value, SaleFinder.isFullCache());
+	}
+
+	public void setNullableStringNull()
+	{
+		this.setNullableString(null);
+	}
+
+	public Timestamp getNullableTimestamp()
+	{
+		return this.nullableTimestamp;
+	}
+
+	public long zGetNullableTimestampAsLong()
+	{
+		if (nullableTimestamp == null) return TimestampPool.OFF_HEAP_NULL;
+		return nullableTimestamp.getTime();
+	}
+
+	public void setNullableTimestamp(Timestamp value)
+	{
+		this.nullableTimestamp = TimestampPool.getInstance().getOrAddToCache(value, SaleFinder.isFullCache(), SaleFinder.isOffHeap());
+	}
+
+	public void setNullableTimestampNull()
+	{
+		this.setNullableTimestamp(null);
+	}
+
+	public BigDecimal getNullableVeryBigDecimal()
+	{
+		return this.nullableVeryBigDecimal;
+	}
+
+	public void setNullableVeryBigDecimal(BigDecimal value)
+	{
+		this.nullableVeryBigDecimal = value;
+	}
+
+	public void setNullableVeryBigDecimalNull()
+	{
+		this.setNullableVeryBigDecimal(null);
+	}
+
+	public Timestamp getSaleDate()
+	{
+		return this.saleDate;
+	}
+
+	public long zGetSaleDateAsLong()
+	{
+		if (saleDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return saleDate.getTime();
+	}
+
+	public void setSaleDate(Timestamp value)
+	{
+		this.saleDate = TimestampPool.getInstance().getOrAddToCache(value, SaleFinder.isFullCache(), SaleFinder.isOffHeap());
+	}
+
+	public void setSaleDateNull()
+	{
+		this.setSaleDate(null);
+	}
+
+	public int getSaleId()
+	{
+		return this.saleId;
+	}
+
+	public void setSaleId(int value)
+	{
+		this.saleId = value;
+	}
+
+	public void setSaleIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getSellerId()
+	{
+		return this.sellerId;
+	}
+
+	public void setSellerId(int value)
+	{
+		this.sellerId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public Date getSettleDate()
+	{
+		return this.settleDate;
+	}
+
+	public void setSettleDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.settleDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.settleDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setSettleDateNull()
+	{
+		this.setSettleDate(null);
+	}
+
+	public void setSellerIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setDiscountPercentageNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setActiveBooleanNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setNullableDoubleNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setNullableIntNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setNullableBooleanNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(SaleData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.activeBoolean = this.activeBoolean;
+		copy.description = this.description;
+		copy.discountPercentage = this.discountPercentage;
+		copy.nullableBigDecimal = this.nullableBigDecimal;
+		copy.nullableBoolean = this.nullableBoolean;
+		copy.nullableDate = this.nullableDate;
+		copy.nullableDouble = this.nullableDouble;
+		copy.nullableInt = this.nullableInt;
+		copy.nullableString = this.nullableString;
+		copy.nullableTimestamp = this.nullableTimestamp;
+		copy.nullableVeryBigDecimal = this.nullableVeryBigDecimal;
+		copy.saleDate = this.saleDate;
+		copy.saleId = this.saleId;
+		copy.sellerId = this.sellerId;
+		copy.settleDate = this.settleDate;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[3];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.activeBoolean = in.readBoolean();
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SaleFinder.isFullCache());
+		this.discountPercentage = in.readDouble();
+		this.nullableBigDecimal = (BigDecimal)in.readObject();
+		this.nullableBoolean = in.readBoolean();
+		this.nullableDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.nullableDouble = in.readDouble();
+		this.nullableInt = in.readInt();
+		this.nullableString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SaleFinder.isFullCache());
+		this.nullableTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), SaleFinder.isFullCache(), SaleFinder.isOffHeap());
+		this.nullableVeryBigDecimal = (BigDecimal)in.readObject();
+		this.saleDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), SaleFinder.isFullCache(), SaleFinder.isOffHeap());
+		this.saleId = in.readInt();
+		this.sellerId = in.readInt();
+		this.settleDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final SaleData otherData = (SaleData) other;
+		if (getSaleId() != otherData.getSaleId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.saleId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.saleId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getItems()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setItems(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public Object getWishListItems()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setWishListItems(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public Object getSeller()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setSeller(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final SaleData saleData = (SaleData) newData;
+		this.setActiveBoolean(saleData.isActiveBoolean());
+		if (saleData.isActiveBooleanNull()) this.setActiveBooleanNull();
+		this.setDescription(saleData.getDescription());
+		this.setDiscountPercentage(saleData.getDiscountPercentage());
+		if (saleData.isDiscountPercentageNull()) this.setDiscountPercentageNull();
+		this.setNullableBigDecimal(saleData.getNullableBigDecimal());
+		this.setNullableBoolean(saleData.isNullableBoolean());
+		if (saleData.isNullableBooleanNull()) this.setNullableBooleanNull();
+		this.setNullableDate(saleData.getNullableDate());
+		this.setNullableDouble(saleData.getNullableDouble());
+		if (saleData.isNullableDoubleNull()) this.setNullableDoubleNull();
+		this.setNullableInt(saleData.getNullableInt());
+		if (saleData.isNullableIntNull()) this.setNullableIntNull();
+		this.setNullableString(saleData.getNullableString());
+		this.setNullableTimestamp(saleData.getNullableTimestamp());
+		this.setNullableVeryBigDecimal(saleData.getNullableVeryBigDecimal());
+		this.setSaleDate(saleData.getSaleDate());
+		this.setSellerId(saleData.getSellerId());
+		if (saleData.isSellerIdNull()) this.setSellerIdNull();
+		this.setSettleDate(saleData.getSettleDate());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final SaleData other = (SaleData) newData;
+		if ( isActiveBooleanNull() != other.isActiveBooleanNull() || isActiveBoolean() != other.isActiveBoolean())
+		{
+			return true;
+		}
+
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if ( isDiscountPercentageNull() != other.isDiscountPercentageNull() || Math.abs(getDiscountPercentage() - other.getDiscountPercentage()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isNullableBigDecimalNull() ? !getNullableBigDecimal().equals(other.getNullableBigDecimal()) : !other.isNullableBigDecimalNull())
+		{
+			return true;
+		}
+
+		if ( isNullableBooleanNull() != other.isNullableBooleanNull() || isNullableBoolean() != other.isNullableBoolean())
+		{
+			return true;
+		}
+
+		if (!isNullableDateNull() ? !getNullableDate().equals(other.getNullableDate()) : !other.isNullableDateNull())
+		{
+			return true;
+		}
+
+		if ( isNullableDoubleNull() != other.isNullableDoubleNull() || Math.abs(getNullableDouble() - other.getNullableDouble()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNullableIntNull() != other.isNullableIntNull() || getNullableInt() != other.getNullableInt())
+		{
+			return true;
+		}
+
+		if (!isNullableStringNull() ? !getNullableString().equals(other.getNullableString()) : !other.isNullableStringNull())
+		{
+			return true;
+		}
+
+		if (!isNullableTimestampNull() ? !getNullableTimestamp().equals(other.getNullableTimestamp()) : !other.isNullableTimestampNull())
+		{
+			return true;
+		}
+
+		if (!isNullableVeryBigDecimalNull() ? !getNullableVeryBigDecimal().equals(other.getNullableVeryBigDecimal()) : !other.isNullableVeryBigDecimalNull())
+		{
+			return true;
+		}
+
+		if (!isSaleDateNull() ? !getSaleDate().equals(other.getSaleDate()) : !other.isSaleDateNull())
+		{
+			return true;
+		}
+
+		if ( isSellerIdNull() != other.isSellerIdNull() || getSellerId() != other.getSellerId())
+		{
+			return true;
+		}
+
+		if (!isSettleDateNull() ? !getSettleDate().equals(other.getSettleDate()) : !other.isSettleDateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		SaleData copy = new SaleData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		SaleData copy = new SaleData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "saleId: "+(""+getSaleId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.SaleData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return SaleFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return SaleFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.SaleData";
+	}
+}
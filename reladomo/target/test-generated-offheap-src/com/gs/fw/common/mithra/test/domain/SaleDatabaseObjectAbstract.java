@@ -0,0 +1,593 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class SaleDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "SALE_DATE,SELLER_ID,DESCRIPTION,DISC_PCTG,SETTLE_DATE,ACTIVE_BOOLEAN,NULLABLE_DOUBLE,NULLABLE_INT,NULLABLE_DATE,NULLABLE_TIMESTAMP,NULLABLE_STRING,NULLABLE_BOOLEAN,NULLABLE_BD,NULLABLE_VERYBD";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.SALE_DATE,t0.SELLER_ID,t0.DESCRIPTION,t0.DISC_PCTG,t0.SETTLE_DATE,t0.ACTIVE_BOOLEAN,t0.NULLABLE_DOUBLE,t0.NULLABLE_INT,t0.NULLABLE_DATE,t0.NULLABLE_TIMESTAMP,t0.NULLABLE_STRING,t0.NULLABLE_BOOLEAN,t0.NULLABLE_BD,t0.NULLABLE_VERYBD";
+	private static final String PK_WITH_ALIAS = "t0.SALE_ID = ?";
+	private static final String PK_INDEX_COLS = "SALE_ID";
+	protected SaleDatabaseObjectAbstract()
+	{
+		super("Sale", "com.gs.fw.common.mithra.test.domain.SaleFinder",
+			15, 15,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SaleFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return SaleFinder.getFinderInstance();
+	}
+
+	public static SaleData allocateOnHeapData()
+	{
+		return new SaleData();
+	}
+
+	public static SaleData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new SaleData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		SaleData data = new SaleData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(SaleFinder.getPrimaryKeyAttributes(), this, SaleFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(SaleFinder.getPrimaryKeyAttributes(), this, SaleFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(SaleFinder.getPrimaryKeyAttributes(), this, SaleFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(SaleFinder.getPrimaryKeyAttributes(), this, SaleFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			SaleFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			SaleFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			Sale.zConfigFullTx();
+		}
+		else
+		{
+			Sale.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateSaleData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkSaleData(1, (SaleData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateSalePkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getSaleTableName();
+	}
+
+	public String getSaleTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		SaleData data = (SaleData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getSaleId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "SALE_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SALE_ID,t0.SALE_DATE,t0.SELLER_ID,t0.DESCRIPTION,t0.DISC_PCTG,t0.SETTLE_DATE,t0.ACTIVE_BOOLEAN,t0.NULLABLE_DOUBLE,t0.NULLABLE_INT,t0.NULLABLE_DATE,t0.NULLABLE_TIMESTAMP,t0.NULLABLE_STRING,t0.NULLABLE_BOOLEAN,t0.NULLABLE_BD,t0.NULLABLE_VERYBD";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*15);
+		result.append(databaseAlias).append(".").append("SALE_ID");
+		result.append(",").append(databaseAlias).append(".").append("SALE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("SELLER_ID");
+		result.append(",").append(databaseAlias).append(".").append("DESCRIPTION");
+		result.append(",").append(databaseAlias).append(".").append("DISC_PCTG");
+		result.append(",").append(databaseAlias).append(".").append("SETTLE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("ACTIVE_BOOLEAN");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_DOUBLE");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_INT");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_TIMESTAMP");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_STRING");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_BOOLEAN");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_BD");
+		result.append(",").append(databaseAlias).append(".").append("NULLABLE_VERYBD");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public SaleData inflateSaleData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		SaleData data = inflateSalePkData(rs, dt);
+		inflateNonPkSaleData(2, data, rs, dt);
+		return data;
+	}
+
+	public SaleData inflateSalePkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		SaleData _data = new SaleData();
+		int _pos = 1;
+		_data.setSaleId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "saleId");
+		return _data;
+	}
+
+	public void inflateNonPkSaleData(int _pos, SaleData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			SaleData _data = _datax;
+			Timestamp saleDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setSaleDate(saleDatetimestampValue);
+			_data.setSellerId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setSellerIdNull();
+			}
+
+			_data.setDescription(trimString(_rs.getString(_pos++)));
+			_data.setDiscountPercentage(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDiscountPercentageNull();
+			}
+
+			_data.setSettleDate(_rs.getDate(_pos++));
+			_data.setActiveBoolean(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setActiveBooleanNull();
+			}
+
+			_data.setNullableDouble(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableDoubleNull();
+			}
+
+			_data.setNullableInt(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableIntNull();
+			}
+
+			_data.setNullableDate(_rs.getDate(_pos++));
+			Timestamp nullableTimestamptimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setNullableTimestamp(nullableTimestamptimestampValue);
+			_data.setNullableString(trimString(_rs.getString(_pos++)));
+			_data.setNullableBoolean(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableBooleanNull();
+			}
+
+			_data.setNullableBigDecimal(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 7, 3));
+			_data.setNullableVeryBigDecimal(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 5));
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "SALE";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		SaleData data = (SaleData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getSaleId());
+		if (data.isSaleDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getSaleDate(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isSellerIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getSellerId());
+		}
+
+		if (data.isDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getDescription());
+		}
+
+		if (data.isDiscountPercentageNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getDiscountPercentage());
+		}
+
+		if (data.isSettleDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getSettleDate());
+		}
+
+		if (data.isActiveBooleanNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isActiveBoolean());
+		}
+
+		if (data.isNullableDoubleNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getNullableDouble());
+		}
+
+		if (data.isNullableIntNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableInt());
+		}
+
+		if (data.isNullableDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getNullableDate());
+		}
+
+		if (data.isNullableTimestampNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getNullableTimestamp(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isNullableStringNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getNullableString());
+		}
+
+		if (data.isNullableBooleanNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isNullableBoolean());
+		}
+
+		if (data.isNullableBigDecimalNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getNullableBigDecimal());
+		}
+
+		if (data.isNullableVeryBigDecimalNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getNullableVeryBigDecimal());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "SALE_ID,SALE_DATE,SELLER_ID,DESCRIPTION,DISC_PCTG,SETTLE_DATE,ACTIVE_BOOLEAN,NULLABLE_DOUBLE,NULLABLE_INT,NULLABLE_DATE,NULLABLE_TIMESTAMP,NULLABLE_STRING,NULLABLE_BOOLEAN,NULLABLE_BD,NULLABLE_VERYBD";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		Sale newObject = new Sale();
+		newObject.zSetFromSaleData((SaleData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SALE_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*15);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SALE_ID");
+		return result.toString();
+	}
+}
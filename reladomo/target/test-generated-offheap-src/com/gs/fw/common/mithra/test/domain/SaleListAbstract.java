@@ -0,0 +1,269 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SaleListAbstract extends DelegatingList<Sale> implements MithraTransactionalList<Sale>
+{
+	public SaleListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SaleListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SaleListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SaleListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Sale[] elements()
+	{
+		Sale[] result = new Sale[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SaleList intersection(SaleList another)
+	{
+		return (SaleList)super.intersection(another);
+	}
+
+	public Sale getSaleAt(int index)
+	{
+		return (Sale)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SalesLineItem.saleId = this.saleId</pre>
+	* @see SalesLineItem#getSale() reverse relationship SalesLineItem.getSale()
+	* @return items
+	*/
+	public SalesLineItemList getItems()
+	{
+		return (SalesLineItemList) this.zGetDelegated().resolveRelationship(this, SaleFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	WishListItem.saleId = this.saleId</pre>
+	* @see WishListItem#getSale() reverse relationship WishListItem.getSale()
+	* @return wish list items
+	*/
+	public WishListItemList getWishListItems()
+	{
+		return (WishListItemList) this.zGetDelegated().resolveRelationship(this, SaleFinder.wishListItems());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Seller.sellerId = this.sellerId</pre>
+	* @see Seller#getSales() reverse relationship Seller.getSales()
+	* @return The seller
+	*/
+	public SellerList getSellers()
+	{
+		return (SellerList) this.zGetDelegated().resolveRelationship(this, SaleFinder.seller());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SaleFinder.getMithraObjectPortal();
+	}
+
+	public SaleList getNonPersistentCopy()
+	{
+		SaleList result = new SaleList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SaleList asAdhoc()
+	{
+		return (SaleList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Sale> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public SaleList merge(MithraTransactionalList<Sale> incoming, TopLevelMergeOptions<Sale> mergeOptions)
+	{
+		return (SaleList) super.merge(incoming, mergeOptions);
+	}
+
+	public SaleList getDetachedCopy()
+	{
+		SaleList result = new SaleList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setSaleId(int newValue)
+	{
+		zSetInteger(SaleFinder.saleId(), newValue);
+	}
+
+	public void setSaleDate(Timestamp newValue)
+	{
+		zSetTimestamp(SaleFinder.saleDate(), newValue);
+	}
+
+	public void setSellerId(int newValue)
+	{
+		zSetInteger(SaleFinder.sellerId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(SaleFinder.description(), newValue);
+	}
+
+	public void setDiscountPercentage(double newValue)
+	{
+		zSetDouble(SaleFinder.discountPercentage(), newValue);
+	}
+
+	public void setSettleDate(Date newValue)
+	{
+		zSetDate(SaleFinder.settleDate(), newValue);
+	}
+
+	public void setActiveBoolean(boolean newValue)
+	{
+		zSetBoolean(SaleFinder.activeBoolean(), newValue);
+	}
+
+	public void setNullableDouble(double newValue)
+	{
+		zSetDouble(SaleFinder.nullableDouble(), newValue);
+	}
+
+	public void setNullableInt(int newValue)
+	{
+		zSetInteger(SaleFinder.nullableInt(), newValue);
+	}
+
+	public void setNullableDate(Date newValue)
+	{
+		zSetDate(SaleFinder.nullableDate(), newValue);
+	}
+
+	public void setNullableTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(SaleFinder.nullableTimestamp(), newValue);
+	}
+
+	public void setNullableString(String newValue)
+	{
+		zSetString(SaleFinder.nullableString(), newValue);
+	}
+
+	public void setNullableBoolean(boolean newValue)
+	{
+		zSetBoolean(SaleFinder.nullableBoolean(), newValue);
+	}
+
+	public void setNullableBigDecimal(BigDecimal newValue)
+	{
+		zSetBigDecimal(SaleFinder.nullableBigDecimal(), newValue);
+	}
+
+	public void setNullableVeryBigDecimal(BigDecimal newValue)
+	{
+		zSetBigDecimal(SaleFinder.nullableVeryBigDecimal(), newValue);
+	}
+
+	public void setSellerIdNull()
+	{
+		zSetAttributeNull(SaleFinder.sellerId());
+	}
+
+	public void setDiscountPercentageNull()
+	{
+		zSetAttributeNull(SaleFinder.discountPercentage());
+	}
+
+	public void setActiveBooleanNull()
+	{
+		zSetAttributeNull(SaleFinder.activeBoolean());
+	}
+
+	public void setNullableDoubleNull()
+	{
+		zSetAttributeNull(SaleFinder.nullableDouble());
+	}
+
+	public void setNullableIntNull()
+	{
+		zSetAttributeNull(SaleFinder.nullableInt());
+	}
+
+	public void setNullableBooleanNull()
+	{
+		zSetAttributeNull(SaleFinder.nullableBoolean());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getItems()).cascadeDeleteAll();
+		((DelegatingList)this.getWishListItems()).cascadeDeleteAll();
+	}
+}
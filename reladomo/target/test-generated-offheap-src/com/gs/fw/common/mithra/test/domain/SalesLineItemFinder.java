@@ -0,0 +1,1087 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SalesLineItemFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/SalesLineItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.SalesLineItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.SalesLineItem");
+	private static final SalesLineItemSingleFinder<SalesLineItem, Object, SalesLineItem> finder = new SalesLineItemSingleFinder<SalesLineItem, Object, SalesLineItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(SalesLineItemFinder.SalesLineItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("itemId");
+		finderMethodMap.addNormalAttributeName("saleId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("manufacturerId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addRelationshipName("productSpecs");
+		finderMethodMap.addRelationshipName("manufacturers");
+		finderMethodMap.addRelationshipName("saleWithManufacturerId");
+		finderMethodMap.addRelationshipName("sale");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = SalesLineItemFinder.productId().constructEqualityMapper(ProductSpecificationFinder.productId());
+			result[1] = ProductSpecificationFinder.productId().constructEqualityMapper(SalesLineItemFinder.productId());
+			result[2] = SalesLineItemFinder.manufacturerId().constructEqualityMapper(ManufacturerFinder.manufacturerId());
+			result[3] = ManufacturerFinder.manufacturerId().constructEqualityMapper(SalesLineItemFinder.manufacturerId());
+			result[4] = SalesLineItemFinder.manufacturerId().constructEqualityMapper(SaleFinder.saleId());
+			result[5] = SaleFinder.saleId().constructEqualityMapper(SalesLineItemFinder.manufacturerId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static SalesLineItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static SalesLineItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static SalesLineItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (SalesLineItemList) finder.findMany(operation);
+	}
+
+	public static SalesLineItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (SalesLineItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static SalesLineItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (SalesLineItem) FinderUtils.findOne(found);
+	}
+
+	public static SalesLineItem findByPrimaryKey(int itemId)
+	{
+		return finder.findByPrimaryKey(itemId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			SalesLineItemData _castedTargetData = (SalesLineItemData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getItemId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static SalesLineItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (SalesLineItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class SalesLineItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<SalesLineItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> itemId;
+		private IntegerAttribute<ParentOwnerType> saleId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private IntegerAttribute<ParentOwnerType> manufacturerId;
+		private IntegerAttribute<ParentOwnerType> quantity;
+		private SalesLineItemProductSpecsFinderSubclass<ParentOwnerType> productSpecs;
+		private SalesLineItemManufacturersFinderSubclass<ParentOwnerType> manufacturers;
+		private SalesLineItemSaleWithManufacturerIdFinderSubclass<ParentOwnerType> saleWithManufacturerId;
+		private SalesLineItemSaleFinderSubclass<ParentOwnerType> sale;
+		public SalesLineItemRelatedFinder()
+		{
+			super();
+		}
+
+		public SalesLineItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.SalesLineItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return SalesLineItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return SalesLineItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return SalesLineItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.itemId();
+			attributes[1] = this.saleId();
+			attributes[2] = this.productId();
+			attributes[3] = this.manufacturerId();
+			attributes[4] = this.quantity();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(4);
+				relatedFinders.add(this.productSpecs());
+				relatedFinders.add(this.manufacturers());
+				relatedFinders.add(this.saleWithManufacturerId());
+				relatedFinders.add(this.sale());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public SalesLineItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return SalesLineItemFinder.findOne(operation, false);
+		}
+
+		public SalesLineItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return SalesLineItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends SalesLineItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new SalesLineItemList((Operation) operation);
+		}
+
+		public MithraList<? extends SalesLineItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			SalesLineItemList result = (SalesLineItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends SalesLineItem> constructEmptyList()
+		{
+			return new SalesLineItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 67819835;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> itemId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.itemId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ITEM_ID","","itemId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SalesLineItemFinder.itemId(), this.mapper, this.zGetValueSelector());
+				this.itemId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> saleId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.saleId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SALE_ID","","saleId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SalesLineItemFinder.saleId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("sale");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Sale", "items");
+				this.saleId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SalesLineItemFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("productSpecs");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> manufacturerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.manufacturerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("MANUFACTURER_ID","","manufacturerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SalesLineItemFinder.manufacturerId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("manufacturers");
+				this.manufacturerId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> quantity()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SalesLineItemFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public ProductSpecificationFinder.ProductSpecificationSingleFinderForRelatedClasses<ParentOwnerType, ProductSpecification, SalesLineItem> productSpecs()
+		{
+			SalesLineItemProductSpecsFinderSubclass<ParentOwnerType> result = this.productSpecs;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SalesLineItemFinder.zGetSalesLineItemProductSpecsReverseMapper());
+				newMapper.setToMany(false);
+				result = new SalesLineItemProductSpecsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productSpecs = result;
+			}
+
+			return result;
+		}
+
+		public ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<ParentOwnerType, Manufacturer, SalesLineItem> manufacturers()
+		{
+			SalesLineItemManufacturersFinderSubclass<ParentOwnerType> result = this.manufacturers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SalesLineItemFinder.zGetSalesLineItemManufacturersReverseMapper());
+				newMapper.setToMany(false);
+				result = new SalesLineItemManufacturersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.manufacturers = result;
+			}
+
+			return result;
+		}
+
+		public SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, SalesLineItem> saleWithManufacturerId()
+		{
+			SalesLineItemSaleWithManufacturerIdFinderSubclass<ParentOwnerType> result = this.saleWithManufacturerId;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SalesLineItemFinder.zGetSalesLineItemSaleWithManufacturerIdReverseMapper());
+				newMapper.setToMany(false);
+				result = new SalesLineItemSaleWithManufacturerIdFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.saleWithManufacturerId = result;
+			}
+
+			return result;
+		}
+
+		public SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, SalesLineItem> sale()
+		{
+			SalesLineItemSaleFinderSubclass<ParentOwnerType> result = this.sale;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SaleFinder.zGetSaleItemsMapper());
+				newMapper.setToMany(false);
+				result = new SalesLineItemSaleFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.sale = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return SalesLineItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return SalesLineItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class SalesLineItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends SalesLineItemRelatedFinder<ParentOwnerType, ReturnType, SalesLineItemList, OwnerType>
+	{
+		public SalesLineItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class SalesLineItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends SalesLineItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SalesLineItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class SalesLineItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends SalesLineItemRelatedFinder<ParentOwnerType, ReturnType, SalesLineItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public SalesLineItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public SalesLineItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(SalesLineItem other)
+		{
+			return this.itemId().eq(other.getItemId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public SalesLineItem findByPrimaryKey(int itemId)
+		{
+			SalesLineItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(itemId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (SalesLineItem) _related;
+			if (_related == null)
+			{
+				_op = this.itemId().eq(itemId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class SalesLineItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends SalesLineItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SalesLineItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productSpecsReverseMapper = null;
+	public static Mapper zGetSalesLineItemProductSpecsReverseMapper()
+	{
+		if (productSpecsReverseMapper == null)
+		{
+			productSpecsReverseMapper = zConstructSalesLineItemProductSpecsReverseMapper();
+		}
+
+		return productSpecsReverseMapper;
+	}
+
+	private static Mapper productSpecsMapper = null;
+	public static Mapper zGetSalesLineItemProductSpecsMapper()
+	{
+		if (productSpecsMapper == null)
+		{
+			productSpecsMapper = zConstructSalesLineItemProductSpecsMapper();
+		}
+
+		return productSpecsMapper;
+	}
+
+	private static Mapper productSpecsPureReverseMapper = null;
+	public static Mapper zGetSalesLineItemProductSpecsPureReverseMapper()
+	{
+		if (productSpecsPureReverseMapper == null)
+		{
+			productSpecsPureReverseMapper = zConstructSalesLineItemProductSpecsPureReverseMapper();
+		}
+
+		return productSpecsPureReverseMapper;
+	}
+
+	private static Mapper zConstructSalesLineItemProductSpecsPureReverseMapper()
+	{
+		Mapper productSpecsMapper = SalesLineItemFinder.zGetConstantJoin(0);
+		productSpecsMapper.setName("productSpecs");
+		return productSpecsMapper;
+	}
+
+	private static Mapper zConstructSalesLineItemProductSpecsReverseMapper()
+	{
+		Mapper productSpecsMapper = SalesLineItemFinder.zGetConstantJoin(0);
+		productSpecsMapper.setName("productSpecs");
+		return productSpecsMapper;
+	}
+
+	private static Mapper zConstructSalesLineItemProductSpecsMapper()
+	{
+		Mapper productSpecsMapper = SalesLineItemFinder.zGetConstantJoin(1);
+		productSpecsMapper.setName("productSpecs_Reverse");
+		return productSpecsMapper;
+	}
+
+	private static Mapper manufacturersReverseMapper = null;
+	public static Mapper zGetSalesLineItemManufacturersReverseMapper()
+	{
+		if (manufacturersReverseMapper == null)
+		{
+			manufacturersReverseMapper = zConstructSalesLineItemManufacturersReverseMapper();
+		}
+
+		return manufacturersReverseMapper;
+	}
+
+	private static Mapper manufacturersMapper = null;
+	public static Mapper zGetSalesLineItemManufacturersMapper()
+	{
+		if (manufacturersMapper == null)
+		{
+			manufacturersMapper = zConstructSalesLineItemManufacturersMapper();
+		}
+
+		return manufacturersMapper;
+	}
+
+	private static Mapper manufacturersPureReverseMapper = null;
+	public static Mapper zGetSalesLineItemManufacturersPureReverseMapper()
+	{
+		if (manufacturersPureReverseMapper == null)
+		{
+			manufacturersPureReverseMapper = zConstructSalesLineItemManufacturersPureReverseMapper();
+		}
+
+		return manufacturersPureReverseMapper;
+	}
+
+	private static Mapper zConstructSalesLineItemManufacturersPureReverseMapper()
+	{
+		Mapper manufacturersMapper = SalesLineItemFinder.zGetConstantJoin(2);
+		manufacturersMapper.setName("manufacturers");
+		return manufacturersMapper;
+	}
+
+	private static Mapper zConstructSalesLineItemManufacturersReverseMapper()
+	{
+		Mapper manufacturersMapper = SalesLineItemFinder.zGetConstantJoin(2);
+		manufacturersMapper.setName("manufacturers");
+		return manufacturersMapper;
+	}
+
+	private static Mapper zConstructSalesLineItemManufacturersMapper()
+	{
+		Mapper manufacturersMapper = SalesLineItemFinder.zGetConstantJoin(3);
+		manufacturersMapper.setName("manufacturers_Reverse");
+		return manufacturersMapper;
+	}
+
+	private static Mapper saleWithManufacturerIdReverseMapper = null;
+	public static Mapper zGetSalesLineItemSaleWithManufacturerIdReverseMapper()
+	{
+		if (saleWithManufacturerIdReverseMapper == null)
+		{
+			saleWithManufacturerIdReverseMapper = zConstructSalesLineItemSaleWithManufacturerIdReverseMapper();
+		}
+
+		return saleWithManufacturerIdReverseMapper;
+	}
+
+	private static Mapper saleWithManufacturerIdMapper = null;
+	public static Mapper zGetSalesLineItemSaleWithManufacturerIdMapper()
+	{
+		if (saleWithManufacturerIdMapper == null)
+		{
+			saleWithManufacturerIdMapper = zConstructSalesLineItemSaleWithManufacturerIdMapper();
+		}
+
+		return saleWithManufacturerIdMapper;
+	}
+
+	private static Mapper saleWithManufacturerIdPureReverseMapper = null;
+	public static Mapper zGetSalesLineItemSaleWithManufacturerIdPureReverseMapper()
+	{
+		if (saleWithManufacturerIdPureReverseMapper == null)
+		{
+			saleWithManufacturerIdPureReverseMapper = zConstructSalesLineItemSaleWithManufacturerIdPureReverseMapper();
+		}
+
+		return saleWithManufacturerIdPureReverseMapper;
+	}
+
+	private static Mapper zConstructSalesLineItemSaleWithManufacturerIdPureReverseMapper()
+	{
+		Mapper saleWithManufacturerIdMapper = SalesLineItemFinder.zGetConstantJoin(4);
+		saleWithManufacturerIdMapper.setName("saleWithManufacturerId");
+		return saleWithManufacturerIdMapper;
+	}
+
+	private static Mapper zConstructSalesLineItemSaleWithManufacturerIdReverseMapper()
+	{
+		Mapper saleWithManufacturerIdMapper = SalesLineItemFinder.zGetConstantJoin(4);
+		saleWithManufacturerIdMapper.setName("saleWithManufacturerId");
+		return saleWithManufacturerIdMapper;
+	}
+
+	private static Mapper zConstructSalesLineItemSaleWithManufacturerIdMapper()
+	{
+		Mapper saleWithManufacturerIdMapper = SalesLineItemFinder.zGetConstantJoin(5);
+		saleWithManufacturerIdMapper.setName("saleWithManufacturerId_Reverse");
+		return saleWithManufacturerIdMapper;
+	}
+
+	/** maps to SALES_LINE_ITEM.ITEM_ID **/
+	public static IntegerAttribute<SalesLineItem> itemId()
+	{
+		return finder.itemId();
+	}
+
+	/** maps to SALES_LINE_ITEM.SALE_ID **/
+	public static IntegerAttribute<SalesLineItem> saleId()
+	{
+		return finder.saleId();
+	}
+
+	/** maps to SALES_LINE_ITEM.PRODUCT_ID **/
+	public static IntegerAttribute<SalesLineItem> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to SALES_LINE_ITEM.MANUFACTURER_ID **/
+	public static IntegerAttribute<SalesLineItem> manufacturerId()
+	{
+		return finder.manufacturerId();
+	}
+
+	/** maps to SALES_LINE_ITEM.QUANTITY **/
+	public static IntegerAttribute<SalesLineItem> quantity()
+	{
+		return finder.quantity();
+	}
+
+	public static ProductSpecificationFinder.ProductSpecificationSingleFinderForRelatedClasses<SalesLineItem, ProductSpecification, SalesLineItem> productSpecs()
+	{
+		return finder.productSpecs();
+	}
+
+	public static class SalesLineItemProductSpecsFinderSubclass<ParentOwnerType> extends ProductSpecificationFinder.ProductSpecificationSingleFinderForRelatedClasses<ParentOwnerType, ProductSpecification, SalesLineItem>
+	{
+		public SalesLineItemProductSpecsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productSpecs";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SalesLineItemProductSpecsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductSpecification plainValueOf(SalesLineItem _obj)
+		{
+			return _obj.getProductSpecs();
+		}
+
+		protected ProductSpecificationList plainListValueOf(Object _obj)
+		{
+			return ((SalesLineItemList)_obj).getProductSpecs();
+		}
+	}
+
+	public static ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<SalesLineItem, Manufacturer, SalesLineItem> manufacturers()
+	{
+		return finder.manufacturers();
+	}
+
+	public static class SalesLineItemManufacturersFinderSubclass<ParentOwnerType> extends ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<ParentOwnerType, Manufacturer, SalesLineItem>
+	{
+		public SalesLineItemManufacturersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "manufacturers";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SalesLineItemManufacturersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Manufacturer plainValueOf(SalesLineItem _obj)
+		{
+			return _obj.getManufacturers();
+		}
+
+		protected ManufacturerList plainListValueOf(Object _obj)
+		{
+			return ((SalesLineItemList)_obj).getManufacturers();
+		}
+	}
+
+	public static SaleFinder.SaleSingleFinderForRelatedClasses<SalesLineItem, Sale, SalesLineItem> saleWithManufacturerId()
+	{
+		return finder.saleWithManufacturerId();
+	}
+
+	public static class SalesLineItemSaleWithManufacturerIdFinderSubclass<ParentOwnerType> extends SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, SalesLineItem>
+	{
+		public SalesLineItemSaleWithManufacturerIdFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "saleWithManufacturerId";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SalesLineItemSaleWithManufacturerIdFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Sale plainValueOf(SalesLineItem _obj)
+		{
+			return _obj.getSaleWithManufacturerId();
+		}
+
+		protected SaleList plainListValueOf(Object _obj)
+		{
+			return ((SalesLineItemList)_obj).getSaleWithManufacturerIds();
+		}
+	}
+
+	public static SaleFinder.SaleSingleFinderForRelatedClasses<SalesLineItem, Sale, SalesLineItem> sale()
+	{
+		return finder.sale();
+	}
+
+	public static class SalesLineItemSaleFinderSubclass<ParentOwnerType> extends SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, SalesLineItem>
+	{
+		public SalesLineItemSaleFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "sale";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SalesLineItemSaleFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Sale plainValueOf(SalesLineItem _obj)
+		{
+			return _obj.getSale();
+		}
+
+		protected SaleList plainListValueOf(Object _obj)
+		{
+			return ((SalesLineItemList)_obj).getSales();
+		}
+	}
+
+	public static Operation eq(SalesLineItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(itemId());
+	}
+
+	public static SalesLineItemSingleFinder<SalesLineItem, Object, SalesLineItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			itemId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			itemId()
+			, itemId()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			saleId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			manufacturerId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ManufacturerFinder.getFinderInstance(),ProductSpecificationFinder.getFinderInstance(),SaleFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ManufacturerFinder.getFinderInstance(),ProductSpecificationFinder.getFinderInstance(),SaleFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.SalesLineItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,368 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SelfJoinConstantData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private String payReceive;
+	private String referenceNumber;
+	private int transactionId;
+	public boolean isPayReceiveNull()
+	{
+		return this.getPayReceive() == null;
+	}
+
+	public boolean isReferenceNumberNull()
+	{
+		return this.getReferenceNumber() == null;
+	}
+
+	public boolean isTransactionIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.payReceive);
+		out.writeObject(this.referenceNumber);
+		out.writeInt(this.transactionId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getPayReceive()
+	{
+		return this.payReceive;
+	}
+
+	public int zGetPayReceiveAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(payReceive);
+	}
+
+	public void setPayReceive(String value)
+	{
+		this.payReceive = StringPool.getInstance().getOrAddToCache(value, SelfJoinConstantFinder.isFullCache());
+	}
+
+	public void setPayReceiveNull()
+	{
+		this.setPayReceive(null);
+	}
+
+	public String getReferenceNumber()
+	{
+		return this.referenceNumber;
+	}
+
+	public int zGetReferenceNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(referenceNumber);
+	}
+
+	public void setReferenceNumber(String value)
+	{
+		this.referenceNumber = StringPool.getInstance().getOrAddToCache(value, SelfJoinConstantFinder.isFullCache());
+	}
+
+	public void setReferenceNumberNull()
+	{
+		this.setReferenceNumber(null);
+	}
+
+	public int getTransactionId()
+	{
+		return this.transactionId;
+	}
+
+	public void setTransactionId(int value)
+	{
+		this.transactionId = value;
+	}
+
+	public void setTransactionIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(SelfJoinConstantData copy, boolean withRelationships)
+	{
+		copy.payReceive = this.payReceive;
+		copy.referenceNumber = this.referenceNumber;
+		copy.transactionId = this.transactionId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[2];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.payReceive = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SelfJoinConstantFinder.isFullCache());
+		this.referenceNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SelfJoinConstantFinder.isFullCache());
+		this.transactionId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final SelfJoinConstantData otherData = (SelfJoinConstantData) other;
+		if (getTransactionId() != otherData.getTransactionId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.transactionId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.transactionId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getMatchingPayDetail()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setMatchingPayDetail(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public Object getMatchingReceiveDetail()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setMatchingReceiveDetail(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final SelfJoinConstantData selfJoinConstantData = (SelfJoinConstantData) newData;
+		this.setPayReceive(selfJoinConstantData.getPayReceive());
+		this.setReferenceNumber(selfJoinConstantData.getReferenceNumber());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final SelfJoinConstantData other = (SelfJoinConstantData) newData;
+		if (!isPayReceiveNull() ? !getPayReceive().equals(other.getPayReceive()) : !other.isPayReceiveNull())
+		{
+			return true;
+		}
+
+		if (!isReferenceNumberNull() ? !getReferenceNumber().equals(other.getReferenceNumber()) : !other.isReferenceNumberNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		SelfJoinConstantData copy = new SelfJoinConstantData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		SelfJoinConstantData copy = new SelfJoinConstantData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "transactionId: "+(""+getTransactionId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.SelfJoinConstantData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return SelfJoinConstantFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return SelfJoinConstantFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.SelfJoinConstantData";
+	}
+}
@@ -0,0 +1,903 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SelfJoinConstantFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/SelfJoinConstant";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.SelfJoinConstant";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.SelfJoinConstant");
+	private static final SelfJoinConstantSingleFinder<SelfJoinConstant, Object, SelfJoinConstant> finder = new SelfJoinConstantSingleFinder<SelfJoinConstant, Object, SelfJoinConstant>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(SelfJoinConstantFinder.SelfJoinConstantRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("transactionId");
+		finderMethodMap.addNormalAttributeName("referenceNumber");
+		finderMethodMap.addNormalAttributeName("payReceive");
+		finderMethodMap.addRelationshipName("matchingPayDetail");
+		finderMethodMap.addRelationshipName("matchingReceiveDetail");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[1];
+			result[0] = SelfJoinConstantFinder.referenceNumber().constructEqualityMapper(SelfJoinConstantFinder.referenceNumber());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = SelfJoinConstantFinder.payReceive().eq("P");
+			result[1] = SelfJoinConstantFinder.payReceive().eq("R");
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static SelfJoinConstant findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static SelfJoinConstant findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static SelfJoinConstantList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (SelfJoinConstantList) finder.findMany(operation);
+	}
+
+	public static SelfJoinConstantList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (SelfJoinConstantList) finder.findManyBypassCache(operation);
+	}
+
+	private static SelfJoinConstant findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (SelfJoinConstant) FinderUtils.findOne(found);
+	}
+
+	public static SelfJoinConstant findByPrimaryKey(int transactionId)
+	{
+		return finder.findByPrimaryKey(transactionId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			SelfJoinConstant _castedTargetData = (SelfJoinConstant) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getTransactionId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static SelfJoinConstant zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (SelfJoinConstant) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class SelfJoinConstantRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<SelfJoinConstant, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> transactionId;
+		private StringAttribute<ParentOwnerType> referenceNumber;
+		private StringAttribute<ParentOwnerType> payReceive;
+		private SelfJoinConstantMatchingPayDetailFinderSubclass<ParentOwnerType> matchingPayDetail;
+		private SelfJoinConstantMatchingReceiveDetailFinderSubclass<ParentOwnerType> matchingReceiveDetail;
+		public SelfJoinConstantRelatedFinder()
+		{
+			super();
+		}
+
+		public SelfJoinConstantRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.SelfJoinConstantFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return SelfJoinConstantFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return SelfJoinConstantFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return SelfJoinConstantFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.transactionId();
+			attributes[1] = this.referenceNumber();
+			attributes[2] = this.payReceive();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.matchingPayDetail());
+				relatedFinders.add(this.matchingReceiveDetail());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public SelfJoinConstant findOne(com.gs.fw.finder.Operation operation)
+		{
+			return SelfJoinConstantFinder.findOne(operation, false);
+		}
+
+		public SelfJoinConstant findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return SelfJoinConstantFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends SelfJoinConstant> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new SelfJoinConstantList((Operation) operation);
+		}
+
+		public MithraList<? extends SelfJoinConstant> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			SelfJoinConstantList result = (SelfJoinConstantList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends SelfJoinConstant> constructEmptyList()
+		{
+			return new SelfJoinConstantList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -866292381;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> transactionId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.transactionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TRANSACTION_ID","","transactionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SelfJoinConstantFinder.transactionId(), this.mapper, this.zGetValueSelector());
+				this.transactionId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> referenceNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.referenceNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("REFERENCE_NUMBER","","referenceNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(SelfJoinConstantFinder.referenceNumber(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "SelfJoinConstant", "matchingPayDetail");
+				this.referenceNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> payReceive()
+		{
+			StringAttribute<ParentOwnerType> result = this.payReceive;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PAY_RECEIVE","","payReceive",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,2,true, false) :
+					new MappedStringAttribute(SelfJoinConstantFinder.payReceive(), this.mapper, this.zGetValueSelector());
+				this.payReceive = result;
+			}
+
+			return result;
+		}
+
+		public SelfJoinConstantFinder.SelfJoinConstantSingleFinderForRelatedClasses<ParentOwnerType, SelfJoinConstant, SelfJoinConstant> matchingPayDetail()
+		{
+			SelfJoinConstantMatchingPayDetailFinderSubclass<ParentOwnerType> result = this.matchingPayDetail;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SelfJoinConstantFinder.zGetSelfJoinConstantMatchingPayDetailReverseMapper());
+				newMapper.setToMany(false);
+				result = new SelfJoinConstantMatchingPayDetailFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.matchingPayDetail = result;
+			}
+
+			return result;
+		}
+
+		public SelfJoinConstantFinder.SelfJoinConstantSingleFinderForRelatedClasses<ParentOwnerType, SelfJoinConstant, SelfJoinConstant> matchingReceiveDetail()
+		{
+			SelfJoinConstantMatchingReceiveDetailFinderSubclass<ParentOwnerType> result = this.matchingReceiveDetail;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SelfJoinConstantFinder.zGetSelfJoinConstantMatchingReceiveDetailReverseMapper());
+				newMapper.setToMany(false);
+				result = new SelfJoinConstantMatchingReceiveDetailFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.matchingReceiveDetail = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return SelfJoinConstantFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return SelfJoinConstantFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class SelfJoinConstantCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends SelfJoinConstantRelatedFinder<ParentOwnerType, ReturnType, SelfJoinConstantList, OwnerType>
+	{
+		public SelfJoinConstantCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class SelfJoinConstantCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends SelfJoinConstantCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SelfJoinConstantCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class SelfJoinConstantSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends SelfJoinConstantRelatedFinder<ParentOwnerType, ReturnType, SelfJoinConstantList, OwnerType>
+	implements ToOneFinder
+	{
+		public SelfJoinConstantSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public SelfJoinConstantSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(SelfJoinConstant other)
+		{
+			return this.transactionId().eq(other.getTransactionId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public SelfJoinConstant findByPrimaryKey(int transactionId)
+		{
+			SelfJoinConstant _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(transactionId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (SelfJoinConstant) _related;
+			if (_related == null)
+			{
+				_op = this.transactionId().eq(transactionId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class SelfJoinConstantSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends SelfJoinConstantSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SelfJoinConstantSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper matchingPayDetailReverseMapper = null;
+	public static Mapper zGetSelfJoinConstantMatchingPayDetailReverseMapper()
+	{
+		if (matchingPayDetailReverseMapper == null)
+		{
+			matchingPayDetailReverseMapper = zConstructSelfJoinConstantMatchingPayDetailReverseMapper();
+		}
+
+		return matchingPayDetailReverseMapper;
+	}
+
+	private static Mapper matchingPayDetailMapper = null;
+	public static Mapper zGetSelfJoinConstantMatchingPayDetailMapper()
+	{
+		if (matchingPayDetailMapper == null)
+		{
+			matchingPayDetailMapper = zConstructSelfJoinConstantMatchingPayDetailMapper();
+		}
+
+		return matchingPayDetailMapper;
+	}
+
+	private static Mapper matchingPayDetailPureReverseMapper = null;
+	public static Mapper zGetSelfJoinConstantMatchingPayDetailPureReverseMapper()
+	{
+		if (matchingPayDetailPureReverseMapper == null)
+		{
+			matchingPayDetailPureReverseMapper = zConstructSelfJoinConstantMatchingPayDetailPureReverseMapper();
+		}
+
+		return matchingPayDetailPureReverseMapper;
+	}
+
+	private static Mapper zConstructSelfJoinConstantMatchingPayDetailPureReverseMapper()
+	{
+		Mapper matchingPayDetailMapper = SelfJoinConstantFinder.zGetConstantJoin(0);
+		matchingPayDetailMapper.setName("matchingPayDetail");
+		return matchingPayDetailMapper;
+	}
+
+	private static Mapper zConstructSelfJoinConstantMatchingPayDetailReverseMapper()
+	{
+		Mapper matchingPayDetailMapperInnerMapper = SelfJoinConstantFinder.zGetConstantJoin(0);
+		Mapper matchingPayDetailMapper = new FilteredMapper(matchingPayDetailMapperInnerMapper, null, SelfJoinConstantFinder.zGetConstantOperation(0));
+		matchingPayDetailMapper.setName("matchingPayDetail");
+		return matchingPayDetailMapper;
+	}
+
+	private static Mapper zConstructSelfJoinConstantMatchingPayDetailMapper()
+	{
+		Mapper matchingPayDetailMapperInnerMapper = SelfJoinConstantFinder.zGetConstantJoin(0);
+		Mapper matchingPayDetailMapper = new FilteredMapper(matchingPayDetailMapperInnerMapper, SelfJoinConstantFinder.zGetConstantOperation(0), null);
+		matchingPayDetailMapper.setName("matchingPayDetail_Reverse");
+		return matchingPayDetailMapper;
+	}
+
+	private static Mapper matchingReceiveDetailReverseMapper = null;
+	public static Mapper zGetSelfJoinConstantMatchingReceiveDetailReverseMapper()
+	{
+		if (matchingReceiveDetailReverseMapper == null)
+		{
+			matchingReceiveDetailReverseMapper = zConstructSelfJoinConstantMatchingReceiveDetailReverseMapper();
+		}
+
+		return matchingReceiveDetailReverseMapper;
+	}
+
+	private static Mapper matchingReceiveDetailMapper = null;
+	public static Mapper zGetSelfJoinConstantMatchingReceiveDetailMapper()
+	{
+		if (matchingReceiveDetailMapper == null)
+		{
+			matchingReceiveDetailMapper = zConstructSelfJoinConstantMatchingReceiveDetailMapper();
+		}
+
+		return matchingReceiveDetailMapper;
+	}
+
+	private static Mapper matchingReceiveDetailPureReverseMapper = null;
+	public static Mapper zGetSelfJoinConstantMatchingReceiveDetailPureReverseMapper()
+	{
+		if (matchingReceiveDetailPureReverseMapper == null)
+		{
+			matchingReceiveDetailPureReverseMapper = zConstructSelfJoinConstantMatchingReceiveDetailPureReverseMapper();
+		}
+
+		return matchingReceiveDetailPureReverseMapper;
+	}
+
+	private static Mapper zConstructSelfJoinConstantMatchingReceiveDetailPureReverseMapper()
+	{
+		Mapper matchingReceiveDetailMapper = SelfJoinConstantFinder.zGetConstantJoin(0);
+		matchingReceiveDetailMapper.setName("matchingReceiveDetail");
+		return matchingReceiveDetailMapper;
+	}
+
+	private static Mapper zConstructSelfJoinConstantMatchingReceiveDetailReverseMapper()
+	{
+		Mapper matchingReceiveDetailMapperInnerMapper = SelfJoinConstantFinder.zGetConstantJoin(0);
+		Mapper matchingReceiveDetailMapper = new FilteredMapper(matchingReceiveDetailMapperInnerMapper, null, SelfJoinConstantFinder.zGetConstantOperation(1));
+		matchingReceiveDetailMapper.setName("matchingReceiveDetail");
+		return matchingReceiveDetailMapper;
+	}
+
+	private static Mapper zConstructSelfJoinConstantMatchingReceiveDetailMapper()
+	{
+		Mapper matchingReceiveDetailMapperInnerMapper = SelfJoinConstantFinder.zGetConstantJoin(0);
+		Mapper matchingReceiveDetailMapper = new FilteredMapper(matchingReceiveDetailMapperInnerMapper, SelfJoinConstantFinder.zGetConstantOperation(1), null);
+		matchingReceiveDetailMapper.setName("matchingReceiveDetail_Reverse");
+		return matchingReceiveDetailMapper;
+	}
+
+	/** maps to SELF_JOIN_CONSTANT.TRANSACTION_ID **/
+	public static IntegerAttribute<SelfJoinConstant> transactionId()
+	{
+		return finder.transactionId();
+	}
+
+	/** maps to SELF_JOIN_CONSTANT.REFERENCE_NUMBER **/
+	public static StringAttribute<SelfJoinConstant> referenceNumber()
+	{
+		return finder.referenceNumber();
+	}
+
+	/** maps to SELF_JOIN_CONSTANT.PAY_RECEIVE **/
+	public static StringAttribute<SelfJoinConstant> payReceive()
+	{
+		return finder.payReceive();
+	}
+
+	public static SelfJoinConstantFinder.SelfJoinConstantSingleFinderForRelatedClasses<SelfJoinConstant, SelfJoinConstant, SelfJoinConstant> matchingPayDetail()
+	{
+		return finder.matchingPayDetail();
+	}
+
+	public static class SelfJoinConstantMatchingPayDetailFinderSubclass<ParentOwnerType> extends SelfJoinConstantFinder.SelfJoinConstantSingleFinderForRelatedClasses<ParentOwnerType, SelfJoinConstant, SelfJoinConstant>
+	{
+		public SelfJoinConstantMatchingPayDetailFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "matchingPayDetail";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				SelfJoinConstantFinder.payReceive(),
+				SelfJoinConstantFinder.referenceNumber()).withExtractors(
+				((OperationWithParameterExtractor)SelfJoinConstantFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				SelfJoinConstantFinder.referenceNumber()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SelfJoinConstantMatchingPayDetailFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected SelfJoinConstant plainValueOf(SelfJoinConstant _obj)
+		{
+			return _obj.getMatchingPayDetail();
+		}
+
+		protected SelfJoinConstantList plainListValueOf(Object _obj)
+		{
+			return ((SelfJoinConstantList)_obj).getMatchingPayDetails();
+		}
+	}
+
+	public static SelfJoinConstantFinder.SelfJoinConstantSingleFinderForRelatedClasses<SelfJoinConstant, SelfJoinConstant, SelfJoinConstant> matchingReceiveDetail()
+	{
+		return finder.matchingReceiveDetail();
+	}
+
+	public static class SelfJoinConstantMatchingReceiveDetailFinderSubclass<ParentOwnerType> extends SelfJoinConstantFinder.SelfJoinConstantSingleFinderForRelatedClasses<ParentOwnerType, SelfJoinConstant, SelfJoinConstant>
+	{
+		public SelfJoinConstantMatchingReceiveDetailFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "matchingReceiveDetail";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				SelfJoinConstantFinder.payReceive(),
+				SelfJoinConstantFinder.referenceNumber()).withExtractors(
+				((OperationWithParameterExtractor)SelfJoinConstantFinder.zGetConstantOperation(1)).getParameterExtractor(),
+				SelfJoinConstantFinder.referenceNumber()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SelfJoinConstantMatchingReceiveDetailFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected SelfJoinConstant plainValueOf(SelfJoinConstant _obj)
+		{
+			return _obj.getMatchingReceiveDetail();
+		}
+
+		protected SelfJoinConstantList plainListValueOf(Object _obj)
+		{
+			return ((SelfJoinConstantList)_obj).getMatchingReceiveDetails();
+		}
+	}
+
+	public static Operation eq(SelfJoinConstant other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(transactionId());
+	}
+
+	public static SelfJoinConstantSingleFinder<SelfJoinConstant, Object, SelfJoinConstant> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			transactionId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			transactionId()
+			, transactionId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			referenceNumber()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			payReceive()
+			, referenceNumber()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			SelfJoinConstantFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			SelfJoinConstantFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.SelfJoinConstant");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,130 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SelfJoinConstantListAbstract extends DelegatingList<SelfJoinConstant> implements MithraList<SelfJoinConstant>
+{
+	public SelfJoinConstantListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SelfJoinConstantListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SelfJoinConstantListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SelfJoinConstantListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public SelfJoinConstant[] elements()
+	{
+		SelfJoinConstant[] result = new SelfJoinConstant[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SelfJoinConstantList intersection(SelfJoinConstantList another)
+	{
+		return (SelfJoinConstantList)super.intersection(another);
+	}
+
+	public SelfJoinConstant getSelfJoinConstantAt(int index)
+	{
+		return (SelfJoinConstant)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.referenceNumber = SelfJoinConstant.referenceNumber
+	and SelfJoinConstant.payReceive = "P"</pre>
+	* @return The matching pay detail
+	*/
+	public SelfJoinConstantList getMatchingPayDetails()
+	{
+		return (SelfJoinConstantList) this.zGetDelegated().resolveRelationship(this, SelfJoinConstantFinder.matchingPayDetail());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.referenceNumber = SelfJoinConstant.referenceNumber
+	and SelfJoinConstant.payReceive = "R"</pre>
+	* @return The matching receive detail
+	*/
+	public SelfJoinConstantList getMatchingReceiveDetails()
+	{
+		return (SelfJoinConstantList) this.zGetDelegated().resolveRelationship(this, SelfJoinConstantFinder.matchingReceiveDetail());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SelfJoinConstantFinder.getMithraObjectPortal();
+	}
+
+	public SelfJoinConstantList getNonPersistentCopy()
+	{
+		SelfJoinConstantList result = new SelfJoinConstantList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SelfJoinConstantList asAdhoc()
+	{
+		return (SelfJoinConstantList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<SelfJoinConstant> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
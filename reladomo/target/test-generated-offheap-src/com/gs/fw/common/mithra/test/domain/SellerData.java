@@ -0,0 +1,427 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SellerData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private boolean active;
+	private String name;
+	private double sellerDiscountPercentage;
+	private int sellerId;
+	private String zipCode;
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isSellerIdNull()
+	{
+		return false;
+	}
+
+	public boolean isZipCodeNull()
+	{
+		return this.getZipCode() == null;
+	}
+
+	public boolean isActiveNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isSellerDiscountPercentageNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.active);
+		out.writeObject(this.name);
+		out.writeDouble(this.sellerDiscountPercentage);
+		out.writeInt(this.sellerId);
+		out.writeObject(this.zipCode);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public boolean isActive()
+	{
+		return this.active;
+	}
+
+	public void setActive(boolean value)
+	{
+		this.active = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, SellerFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public double getSellerDiscountPercentage()
+	{
+		return this.sellerDiscountPercentage;
+	}
+
+	public void setSellerDiscountPercentage(double value)
+	{
+		this.sellerDiscountPercentage = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getSellerId()
+	{
+		return this.sellerId;
+	}
+
+	public void setSellerId(int value)
+	{
+		this.sellerId = value;
+	}
+
+	public void setSellerIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getZipCode()
+	{
+		return this.zipCode;
+	}
+
+	public int zGetZipCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(zipCode);
+	}
+
+	public void setZipCode(String value)
+	{
+		this.zipCode = StringPool.getInstance().getOrAddToCache(value, SellerFinder.isFullCache());
+	}
+
+	public void setZipCodeNull()
+	{
+		this.setZipCode(null);
+	}
+
+	public void setActiveNull()
+	{
+		setActive((boolean)true);
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setSellerDiscountPercentageNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(SellerData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.active = this.active;
+		copy.name = this.name;
+		copy.sellerDiscountPercentage = this.sellerDiscountPercentage;
+		copy.sellerId = this.sellerId;
+		copy.zipCode = this.zipCode;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.active = in.readBoolean();
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SellerFinder.isFullCache());
+		this.sellerDiscountPercentage = in.readDouble();
+		this.sellerId = in.readInt();
+		this.zipCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SellerFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final SellerData otherData = (SellerData) other;
+		if (getSellerId() != otherData.getSellerId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.sellerId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.sellerId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getSales()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setSales(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final SellerData sellerData = (SellerData) newData;
+		this.setActive(sellerData.isActive());
+		if (sellerData.isActiveNull()) this.setActiveNull();
+		this.setName(sellerData.getName());
+		this.setSellerDiscountPercentage(sellerData.getSellerDiscountPercentage());
+		if (sellerData.isSellerDiscountPercentageNull()) this.setSellerDiscountPercentageNull();
+		this.setZipCode(sellerData.getZipCode());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final SellerData other = (SellerData) newData;
+		if ( isActiveNull() != other.isActiveNull() || isActive() != other.isActive())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		if ( isSellerDiscountPercentageNull() != other.isSellerDiscountPercentageNull() || Math.abs(getSellerDiscountPercentage() - other.getSellerDiscountPercentage()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isZipCodeNull() ? !getZipCode().equals(other.getZipCode()) : !other.isZipCodeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		SellerData copy = new SellerData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		SellerData copy = new SellerData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "sellerId: "+(""+getSellerId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.SellerData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return SellerFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return SellerFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.SellerData";
+	}
+}
@@ -0,0 +1,372 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class SpecialAccountAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(SpecialAccount.class.getName());
+	public SpecialAccountAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public SpecialAccount getDetachedCopy() throws MithraBusinessException
+	{
+		return (SpecialAccount) super.getDetachedCopy();
+	}
+
+	public SpecialAccount getNonPersistentCopy() throws MithraBusinessException
+	{
+		SpecialAccount result = (SpecialAccount) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public SpecialAccount copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (SpecialAccount) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public SpecialAccount zFindOriginal()
+	{
+		SpecialAccountData data = (SpecialAccountData) this.currentData;
+		Operation op;
+		op = SpecialAccountFinder.specialAccountId().eq(data.getSpecialAccountId());
+		op = op.and(SpecialAccountFinder.accountSpecialCode().eq(data.getAccountSpecialCode()));
+		op = op.and(SpecialAccountFinder.deskId().eq(data.getDeskId()));
+		return SpecialAccountFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new SpecialAccountData();
+	}
+
+	protected void zSetFromSpecialAccountData( SpecialAccountData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromSpecialAccountData( SpecialAccountData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAccountSpecialCodeNull()
+	{
+		return ((SpecialAccountData) this.zSynchronizedGetData()).isAccountSpecialCodeNull();
+	}
+
+	public long getAccountSpecialCode()
+	{
+		SpecialAccountData data = (SpecialAccountData) this.zSynchronizedGetData();
+		return data.getAccountSpecialCode();
+	}
+
+	public void setAccountSpecialCode(long newValue)
+	{
+		zSetLong(SpecialAccountFinder.accountSpecialCode(), newValue, true, false ,false);
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((SpecialAccountData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		SpecialAccountData data = (SpecialAccountData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(SpecialAccountFinder.deskId(), newValue, false, false );
+	}
+
+	public boolean isSpecialAccountDescriptionNull()
+	{
+		return ((SpecialAccountData) this.zSynchronizedGetData()).isSpecialAccountDescriptionNull();
+	}
+
+	public String getSpecialAccountDescription()
+	{
+		SpecialAccountData data = (SpecialAccountData) this.zSynchronizedGetData();
+		return data.getSpecialAccountDescription();
+	}
+
+	public void setSpecialAccountDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'specialAccountDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(SpecialAccountFinder.specialAccountDescription(), newValue, false, false );
+	}
+
+	public boolean isSpecialAccountIdNull()
+	{
+		return ((SpecialAccountData) this.zSynchronizedGetData()).isSpecialAccountIdNull();
+	}
+
+	public long getSpecialAccountId()
+	{
+		SpecialAccountData data = (SpecialAccountData) this.zSynchronizedGetData();
+		return data.getSpecialAccountId();
+	}
+
+	public void setSpecialAccountId(long newValue)
+	{
+		zSetLong(SpecialAccountFinder.specialAccountId(), newValue, true, false ,false);
+	}
+
+	public boolean isSpecialAccountOpeningDateNull()
+	{
+		return ((SpecialAccountData) this.zSynchronizedGetData()).isSpecialAccountOpeningDateNull();
+	}
+
+	public Timestamp getSpecialAccountOpeningDate()
+	{
+		SpecialAccountData data = (SpecialAccountData) this.zSynchronizedGetData();
+		return data.getSpecialAccountOpeningDate();
+	}
+
+	public void setSpecialAccountOpeningDate(Timestamp newValue)
+	{
+		zSetTimestamp(SpecialAccountFinder.specialAccountOpeningDate(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		SpecialAccountData _newData = (SpecialAccountData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		SpecialAccountData _newData = (SpecialAccountData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SpecialAccountData _newData = (SpecialAccountData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public SpecialAccount zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		SpecialAccount original = (SpecialAccount) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return SpecialAccountFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SpecialAccountFinder.getMithraObjectPortal();
+	}
+
+	public SpecialAccount getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, SpecialAccountFinder.specialAccountDescription(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, SpecialAccountFinder.specialAccountOpeningDate(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, SpecialAccountFinder.accountSpecialCode(), false);
+		changed |= zUpdateString(behavior, data, newData, SpecialAccountFinder.deskId(), false);
+		changed |= zUpdateLong(behavior, data, newData, SpecialAccountFinder.specialAccountId(), false);
+		return changed;
+	}
+
+	public long generateAndSetSpecialAccountId()
+	{
+		long nextValue =(long) this.generateSpecialAccountId();
+		this.setSpecialAccountId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsSpecialAccountIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SpecialAccountData data = (SpecialAccountData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsSpecialAccountIdSet();
+	}
+
+	protected long generateSpecialAccountId()
+	{
+		Object sourceAttribute = this.getDeskId();
+		SpecialAccountFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("AccountSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	public long generateAndSetAccountSpecialCode()
+	{
+		long nextValue =(long) this.generateAccountSpecialCode();
+		this.setAccountSpecialCode(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsAccountSpecialCodeSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SpecialAccountData data = (SpecialAccountData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsAccountSpecialCodeSet();
+	}
+
+	protected long generateAccountSpecialCode()
+	throws MithraBusinessException
+	{
+		MaxFromTablePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getMaxFromTablePrimaryKeyGenerator(SpecialAccountFinder.accountSpecialCode(),this.getDeskId());
+		return (long)primaryKeyGenerator.getNextId();
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SpecialAccountData data = (SpecialAccountData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsSpecialAccountIdSet())
+		{
+			data.setSpecialAccountId(generateSpecialAccountId());
+		}
+
+		if (!data.zGetIsAccountSpecialCodeSet())
+		{
+			data.setAccountSpecialCode(generateAccountSpecialCode());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		SpecialAccountAbstract result = (SpecialAccountAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
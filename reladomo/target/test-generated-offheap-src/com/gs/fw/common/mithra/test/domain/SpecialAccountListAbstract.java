@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SpecialAccountListAbstract extends DelegatingList<SpecialAccount> implements MithraTransactionalList<SpecialAccount>
+{
+	public SpecialAccountListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SpecialAccountListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SpecialAccountListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SpecialAccountListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public SpecialAccount[] elements()
+	{
+		SpecialAccount[] result = new SpecialAccount[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SpecialAccountList intersection(SpecialAccountList another)
+	{
+		return (SpecialAccountList)super.intersection(another);
+	}
+
+	public SpecialAccount getSpecialAccountAt(int index)
+	{
+		return (SpecialAccount)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SpecialAccountFinder.getMithraObjectPortal();
+	}
+
+	public SpecialAccountList getNonPersistentCopy()
+	{
+		SpecialAccountList result = new SpecialAccountList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SpecialAccountList asAdhoc()
+	{
+		return (SpecialAccountList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<SpecialAccount> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public SpecialAccountList merge(MithraTransactionalList<SpecialAccount> incoming, TopLevelMergeOptions<SpecialAccount> mergeOptions)
+	{
+		return (SpecialAccountList) super.merge(incoming, mergeOptions);
+	}
+
+	public SpecialAccountList getDetachedCopy()
+	{
+		SpecialAccountList result = new SpecialAccountList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysWithSourceAttribute((SequenceAttribute)SpecialAccountFinder.specialAccountId(), false, "AccountSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory");
+	}
+
+	public void setSpecialAccountId(long newValue)
+	{
+		zSetLong(SpecialAccountFinder.specialAccountId(), newValue);
+	}
+
+	public void setAccountSpecialCode(long newValue)
+	{
+		zSetLong(SpecialAccountFinder.accountSpecialCode(), newValue);
+	}
+
+	public void setSpecialAccountDescription(String newValue)
+	{
+		zSetString(SpecialAccountFinder.specialAccountDescription(), newValue);
+	}
+
+	public void setSpecialAccountOpeningDate(Timestamp newValue)
+	{
+		zSetTimestamp(SpecialAccountFinder.specialAccountOpeningDate(), newValue);
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(SpecialAccountFinder.deskId(), newValue);
+	}
+}
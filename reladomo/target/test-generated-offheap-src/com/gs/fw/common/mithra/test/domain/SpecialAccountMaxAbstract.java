@@ -0,0 +1,371 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class SpecialAccountMaxAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(SpecialAccountMax.class.getName());
+	public SpecialAccountMaxAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public SpecialAccountMax getDetachedCopy() throws MithraBusinessException
+	{
+		return (SpecialAccountMax) super.getDetachedCopy();
+	}
+
+	public SpecialAccountMax getNonPersistentCopy() throws MithraBusinessException
+	{
+		SpecialAccountMax result = (SpecialAccountMax) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public SpecialAccountMax copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (SpecialAccountMax) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public SpecialAccountMax zFindOriginal()
+	{
+		SpecialAccountMaxData data = (SpecialAccountMaxData) this.currentData;
+		Operation op;
+		op = SpecialAccountMaxFinder.specialAccountId().eq(data.getSpecialAccountId());
+		op = op.and(SpecialAccountMaxFinder.accountSpecialCode().eq(data.getAccountSpecialCode()));
+		op = op.and(SpecialAccountMaxFinder.deskId().eq(data.getDeskId()));
+		return SpecialAccountMaxFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new SpecialAccountMaxData();
+	}
+
+	protected void zSetFromSpecialAccountMaxData( SpecialAccountMaxData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromSpecialAccountMaxData( SpecialAccountMaxData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAccountSpecialCodeNull()
+	{
+		return ((SpecialAccountMaxData) this.zSynchronizedGetData()).isAccountSpecialCodeNull();
+	}
+
+	public long getAccountSpecialCode()
+	{
+		SpecialAccountMaxData data = (SpecialAccountMaxData) this.zSynchronizedGetData();
+		return data.getAccountSpecialCode();
+	}
+
+	public void setAccountSpecialCode(long newValue)
+	{
+		zSetLong(SpecialAccountMaxFinder.accountSpecialCode(), newValue, true, false ,false);
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((SpecialAccountMaxData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		SpecialAccountMaxData data = (SpecialAccountMaxData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(SpecialAccountMaxFinder.deskId(), newValue, false, false );
+	}
+
+	public boolean isSpecialAccountDescriptionNull()
+	{
+		return ((SpecialAccountMaxData) this.zSynchronizedGetData()).isSpecialAccountDescriptionNull();
+	}
+
+	public String getSpecialAccountDescription()
+	{
+		SpecialAccountMaxData data = (SpecialAccountMaxData) this.zSynchronizedGetData();
+		return data.getSpecialAccountDescription();
+	}
+
+	public void setSpecialAccountDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'specialAccountDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(SpecialAccountMaxFinder.specialAccountDescription(), newValue, false, false );
+	}
+
+	public boolean isSpecialAccountIdNull()
+	{
+		return ((SpecialAccountMaxData) this.zSynchronizedGetData()).isSpecialAccountIdNull();
+	}
+
+	public long getSpecialAccountId()
+	{
+		SpecialAccountMaxData data = (SpecialAccountMaxData) this.zSynchronizedGetData();
+		return data.getSpecialAccountId();
+	}
+
+	public void setSpecialAccountId(long newValue)
+	{
+		zSetLong(SpecialAccountMaxFinder.specialAccountId(), newValue, true, false ,false);
+	}
+
+	public boolean isSpecialAccountOpeningDateNull()
+	{
+		return ((SpecialAccountMaxData) this.zSynchronizedGetData()).isSpecialAccountOpeningDateNull();
+	}
+
+	public Timestamp getSpecialAccountOpeningDate()
+	{
+		SpecialAccountMaxData data = (SpecialAccountMaxData) this.zSynchronizedGetData();
+		return data.getSpecialAccountOpeningDate();
+	}
+
+	public void setSpecialAccountOpeningDate(Timestamp newValue)
+	{
+		zSetTimestamp(SpecialAccountMaxFinder.specialAccountOpeningDate(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		SpecialAccountMaxData _newData = (SpecialAccountMaxData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		SpecialAccountMaxData _newData = (SpecialAccountMaxData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SpecialAccountMaxData _newData = (SpecialAccountMaxData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public SpecialAccountMax zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		SpecialAccountMax original = (SpecialAccountMax) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return SpecialAccountMaxFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SpecialAccountMaxFinder.getMithraObjectPortal();
+	}
+
+	public SpecialAccountMax getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, SpecialAccountMaxFinder.specialAccountDescription(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, SpecialAccountMaxFinder.specialAccountOpeningDate(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, SpecialAccountMaxFinder.accountSpecialCode(), false);
+		changed |= zUpdateString(behavior, data, newData, SpecialAccountMaxFinder.deskId(), false);
+		changed |= zUpdateLong(behavior, data, newData, SpecialAccountMaxFinder.specialAccountId(), false);
+		return changed;
+	}
+
+	public long generateAndSetSpecialAccountId()
+	{
+		long nextValue =(long) this.generateSpecialAccountId();
+		this.setSpecialAccountId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsSpecialAccountIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SpecialAccountMaxData data = (SpecialAccountMaxData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsSpecialAccountIdSet();
+	}
+
+	protected long generateSpecialAccountId()
+	throws MithraBusinessException
+	{
+		MaxFromTablePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getMaxFromTablePrimaryKeyGenerator(SpecialAccountMaxFinder.specialAccountId(),this.getDeskId());
+		return (long)primaryKeyGenerator.getNextId();
+	}
+
+	public long generateAndSetAccountSpecialCode()
+	{
+		long nextValue =(long) this.generateAccountSpecialCode();
+		this.setAccountSpecialCode(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsAccountSpecialCodeSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SpecialAccountMaxData data = (SpecialAccountMaxData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsAccountSpecialCodeSet();
+	}
+
+	protected long generateAccountSpecialCode()
+	throws MithraBusinessException
+	{
+		MaxFromTablePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getMaxFromTablePrimaryKeyGenerator(SpecialAccountMaxFinder.accountSpecialCode(),this.getDeskId());
+		return (long)primaryKeyGenerator.getNextId();
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SpecialAccountMaxData data = (SpecialAccountMaxData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsSpecialAccountIdSet())
+		{
+			data.setSpecialAccountId(generateSpecialAccountId());
+		}
+
+		if (!data.zGetIsAccountSpecialCodeSet())
+		{
+			data.setAccountSpecialCode(generateAccountSpecialCode());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		SpecialAccountMaxAbstract result = (SpecialAccountMaxAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,397 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SpecialAccountMaxData
+implements MithraDataObject
+{
+	private long accountSpecialCode;
+	private String deskId;
+	private String specialAccountDescription;
+	private long specialAccountId;
+	private Timestamp specialAccountOpeningDate;
+	public boolean isAccountSpecialCodeNull()
+	{
+		return false;
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isSpecialAccountDescriptionNull()
+	{
+		return this.getSpecialAccountDescription() == null;
+	}
+
+	public boolean isSpecialAccountIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSpecialAccountOpeningDateNull()
+	{
+		return this.getSpecialAccountOpeningDate() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeLong(this.accountSpecialCode);
+		out.writeBoolean(_isAccountSpecialCodeSet);
+		out.writeObject(this.deskId);
+		out.writeObject(this.specialAccountDescription);
+		out.writeLong(this.specialAccountId);
+		out.writeBoolean(_isSpecialAccountIdSet);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.specialAccountOpeningDate);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public long getAccountSpecialCode()
+	{
+		return this.accountSpecialCode;
+	}
+
+	public void setAccountSpecialCode(long value)
+	{
+		this.accountSpecialCode = value;
+		_isAccountSpecialCodeSet = true;
+	}
+
+	public void setAccountSpecialCodeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public int zGetDeskIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+	}
+
+	public void setDeskId(String value)
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, SpecialAccountMaxFinder.isFullCache());
+	}
+
+	public void setDeskIdNull()
+	{
+		this.setDeskId(null);
+	}
+
+	public String getSpecialAccountDescription()
+	{
+		return this.specialAccountDescription;
+	}
+
+	public int zGetSpecialAccountDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(specialAccountDescription);
+	}
+
+	public void setSpecialAccountDescription(String value)
+	{
+		this.specialAccountDescription = StringPool.getInstance().getOrAddToCache(value, SpecialAccountMaxFinder.isFullCache());
+	}
+
+	public void setSpecialAccountDescriptionNull()
+	{
+		this.setSpecialAccountDescription(null);
+	}
+
+	public long getSpecialAccountId()
+	{
+		return this.specialAccountId;
+	}
+
+	public void setSpecialAccountId(long value)
+	{
+		this.specialAccountId = value;
+		_isSpecialAccountIdSet = true;
+	}
+
+	public void setSpecialAccountIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Timestamp getSpecialAccountOpeningDate()
+	{
+		return this.specialAccountOpeningDate;
+	}
+
+	public long zGetSpecialAccountOpeningDateAsLong()
+	{
+		if (specialAccountOpeningDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return specialAccountOpeningDate.getTime();
+	}
+
+	public void setSpecialAccountOpeningDate(Timestamp value)
+	{
+		this.specialAccountOpeningDate = TimestampPool.getInstance().getOrAddToCache(value, SpecialAccountMaxFinder.isFullCache(), SpecialAccountMaxFinder.isOffHeap());
+	}
+
+	public void setSpecialAccountOpeningDateNull()
+	{
+		this.setSpecialAccountOpeningDate(null);
+	}
+
+	public boolean _isSpecialAccountIdSet;
+	public boolean zGetIsSpecialAccountIdSet()
+	{
+		return _isSpecialAccountIdSet;
+	}
+
+	public boolean _isAccountSpecialCodeSet;
+	public boolean zGetIsAccountSpecialCodeSet()
+	{
+		return _isAccountSpecialCodeSet;
+	}
+
+	protected void copyInto(SpecialAccountMaxData copy, boolean withRelationships)
+	{
+		copy.accountSpecialCode = this.accountSpecialCode;
+		copy.deskId = this.deskId;
+		copy.specialAccountDescription = this.specialAccountDescription;
+		copy.specialAccountId = this.specialAccountId;
+		copy.specialAccountOpeningDate = this.specialAccountOpeningDate;
+		copy._isSpecialAccountIdSet = this._isSpecialAccountIdSet;
+		copy._isAccountSpecialCodeSet = this._isAccountSpecialCodeSet;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountSpecialCode = in.readLong();
+		_isAccountSpecialCodeSet = in.readBoolean();
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SpecialAccountMaxFinder.isFullCache());
+		this.specialAccountDescription = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SpecialAccountMaxFinder.isFullCache());
+		this.specialAccountId = in.readLong();
+		_isSpecialAccountIdSet = in.readBoolean();
+		this.specialAccountOpeningDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), SpecialAccountMaxFinder.isFullCache(), SpecialAccountMaxFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final SpecialAccountMaxData otherData = (SpecialAccountMaxData) other;
+		if (getAccountSpecialCode() != otherData.getAccountSpecialCode())
+		{
+			return false;
+		}
+
+		if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+		{
+			return false;
+		}
+
+		if (getSpecialAccountId() != otherData.getSpecialAccountId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.accountSpecialCode);
+		out.writeObject(this.deskId);
+		out.writeLong(this.specialAccountId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountSpecialCode = in.readLong();
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SpecialAccountMaxFinder.isFullCache());
+		this.specialAccountId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final SpecialAccountMaxData specialAccountMaxData = (SpecialAccountMaxData) newData;
+		this.setDeskId(specialAccountMaxData.getDeskId());
+		this.setSpecialAccountDescription(specialAccountMaxData.getSpecialAccountDescription());
+		this.setSpecialAccountOpeningDate(specialAccountMaxData.getSpecialAccountOpeningDate());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final SpecialAccountMaxData other = (SpecialAccountMaxData) newData;
+		if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if (!isSpecialAccountDescriptionNull() ? !getSpecialAccountDescription().equals(other.getSpecialAccountDescription()) : !other.isSpecialAccountDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isSpecialAccountOpeningDateNull() ? !getSpecialAccountOpeningDate().equals(other.getSpecialAccountOpeningDate()) : !other.isSpecialAccountOpeningDateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		SpecialAccountMaxData copy = new SpecialAccountMaxData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		SpecialAccountMaxData copy = new SpecialAccountMaxData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "accountSpecialCode: "+(""+getAccountSpecialCode())+ " / ";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		result += "specialAccountId: "+(""+getSpecialAccountId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.SpecialAccountMaxData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return SpecialAccountMaxFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return SpecialAccountMaxFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.SpecialAccountMaxData";
+	}
+}
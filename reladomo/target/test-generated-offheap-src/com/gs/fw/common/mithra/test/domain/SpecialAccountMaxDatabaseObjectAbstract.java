@@ -0,0 +1,442 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class SpecialAccountMaxDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "SPECIAL_ACCOUNT_DESCRIPTION,SPECIAL_ACCOUNT_OPENING_DATE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.SPECIAL_ACCOUNT_DESCRIPTION,t0.SPECIAL_ACCOUNT_OPENING_DATE";
+	private static final String PK_WITH_ALIAS = "t0.SPECIAL_ACCOUNT_ID = ? AND t0.ACCOUNT_SPECIAL_CODE = ?";
+	private static final String PK_INDEX_COLS = "SPECIAL_ACCOUNT_ID,ACCOUNT_SPECIAL_CODE";
+	protected SpecialAccountMaxDatabaseObjectAbstract()
+	{
+		super("SpecialAccountMax", "com.gs.fw.common.mithra.test.domain.SpecialAccountMaxFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SpecialAccountMaxFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return SpecialAccountMaxFinder.getFinderInstance();
+	}
+
+	public static SpecialAccountMaxData allocateOnHeapData()
+	{
+		return new SpecialAccountMaxData();
+	}
+
+	public static SpecialAccountMaxData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new SpecialAccountMaxData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		SpecialAccountMaxData data = new SpecialAccountMaxData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(SpecialAccountMaxFinder.getPrimaryKeyAttributes(), this, SpecialAccountMaxFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(SpecialAccountMaxFinder.getPrimaryKeyAttributes(), this, SpecialAccountMaxFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(SpecialAccountMaxFinder.getPrimaryKeyAttributes(), this, SpecialAccountMaxFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(SpecialAccountMaxFinder.getPrimaryKeyAttributes(), this, SpecialAccountMaxFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			SpecialAccountMaxFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			SpecialAccountMaxFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			SpecialAccountMax.zConfigFullTx();
+		}
+		else
+		{
+			SpecialAccountMax.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		ArrayList simulatedSequenceInitValues = new ArrayList(2);
+		Attribute[] primaryKeyAttributes = SpecialAccountMaxFinder.getPrimaryKeyAttributes();
+		SimulatedSequenceInitValues initValues = null;
+		return simulatedSequenceInitValues;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		SpecialAccountMaxData data = (SpecialAccountMaxData)object;
+		return data.getDeskId();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateSpecialAccountMaxData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkSpecialAccountMaxData(1, (SpecialAccountMaxData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateSpecialAccountMaxPkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getSpecialAccountMaxTableName(((String)source));
+	}
+
+	public String getSpecialAccountMaxTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		SpecialAccountMaxData data = (SpecialAccountMaxData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getSpecialAccountId());
+		stm.setLong(pos++, data.getAccountSpecialCode());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "SPECIAL_ACCOUNT_ID = ? AND ACCOUNT_SPECIAL_CODE = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SPECIAL_ACCOUNT_ID,t0.ACCOUNT_SPECIAL_CODE,t0.SPECIAL_ACCOUNT_DESCRIPTION,t0.SPECIAL_ACCOUNT_OPENING_DATE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("SPECIAL_ACCOUNT_ID");
+		result.append(",").append(databaseAlias).append(".").append("ACCOUNT_SPECIAL_CODE");
+		result.append(",").append(databaseAlias).append(".").append("SPECIAL_ACCOUNT_DESCRIPTION");
+		result.append(",").append(databaseAlias).append(".").append("SPECIAL_ACCOUNT_OPENING_DATE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public SpecialAccountMaxData inflateSpecialAccountMaxData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		SpecialAccountMaxData data = inflateSpecialAccountMaxPkData(rs, dt, sourceAttribute);
+		inflateNonPkSpecialAccountMaxData(3, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public SpecialAccountMaxData inflateSpecialAccountMaxPkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		SpecialAccountMaxData _data = new SpecialAccountMaxData();
+		int _pos = 1;
+		_data.setDeskId(sourceAttribute);
+		_data.setSpecialAccountId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "specialAccountId");
+		_data.setAccountSpecialCode(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "accountSpecialCode");
+		return _data;
+	}
+
+	public void inflateNonPkSpecialAccountMaxData(int _pos, SpecialAccountMaxData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			SpecialAccountMaxData _data = _datax;
+			_data.setSpecialAccountDescription(trimString(_rs.getString(_pos++)));
+			Timestamp specialAccountOpeningDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setSpecialAccountOpeningDate(specialAccountOpeningDatetimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "SPECIAL_ACCOUNT_MAX";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		SpecialAccountMaxData data = (SpecialAccountMaxData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getSpecialAccountId());
+		stm.setLong(pos++, data.getAccountSpecialCode());
+		if (data.isSpecialAccountDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getSpecialAccountDescription());
+		}
+
+		if (data.isSpecialAccountOpeningDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getSpecialAccountOpeningDate(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "SPECIAL_ACCOUNT_ID,ACCOUNT_SPECIAL_CODE,SPECIAL_ACCOUNT_DESCRIPTION,SPECIAL_ACCOUNT_OPENING_DATE";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		SpecialAccountMax newObject = new SpecialAccountMax();
+		newObject.zSetFromSpecialAccountMaxData((SpecialAccountMaxData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SPECIAL_ACCOUNT_ID,t0.ACCOUNT_SPECIAL_CODE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SPECIAL_ACCOUNT_ID");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ACCOUNT_SPECIAL_CODE");
+		return result.toString();
+	}
+}
@@ -0,0 +1,695 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SpecialAccountMaxFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("deskId",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/SpecialAccountMax";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.SpecialAccountMax";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.SpecialAccountMax");
+	private static final SpecialAccountMaxSingleFinder<SpecialAccountMax, Object, SpecialAccountMax> finder = new SpecialAccountMaxSingleFinder<SpecialAccountMax, Object, SpecialAccountMax>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(SpecialAccountMaxFinder.SpecialAccountMaxRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("specialAccountId");
+		finderMethodMap.addNormalAttributeName("accountSpecialCode");
+		finderMethodMap.addNormalAttributeName("specialAccountDescription");
+		finderMethodMap.addNormalAttributeName("specialAccountOpeningDate");
+		finderMethodMap.addNormalAttributeName("deskId");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return SpecialAccountMaxFinder.zSourceAttributeType;
+	}
+
+	public static SpecialAccountMax findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static SpecialAccountMax findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static SpecialAccountMaxList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (SpecialAccountMaxList) finder.findMany(operation);
+	}
+
+	public static SpecialAccountMaxList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (SpecialAccountMaxList) finder.findManyBypassCache(operation);
+	}
+
+	private static SpecialAccountMax findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (SpecialAccountMax) FinderUtils.findOne(found);
+	}
+
+	public static SpecialAccountMax findByPrimaryKey(long specialAccountId, long accountSpecialCode, String deskId)
+	{
+		return finder.findByPrimaryKey(specialAccountId, accountSpecialCode, deskId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			SpecialAccountMaxData _castedTargetData = (SpecialAccountMaxData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getSpecialAccountId() && _bean.getL2AsLong() == _castedTargetData.getAccountSpecialCode() && _bean.getO1AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.hash(_bean.getL2AsLong())),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.hash(_bean.getL2AsLong())),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static SpecialAccountMax zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (SpecialAccountMax) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class SpecialAccountMaxRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<SpecialAccountMax, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return SpecialAccountMaxFinder.zSourceAttributeType;
+		}
+
+		private LongAttribute<ParentOwnerType> specialAccountId;
+		private LongAttribute<ParentOwnerType> accountSpecialCode;
+		private StringAttribute<ParentOwnerType> specialAccountDescription;
+		private TimestampAttribute<ParentOwnerType> specialAccountOpeningDate;
+		private StringAttribute<ParentOwnerType> deskId;
+		public SpecialAccountMaxRelatedFinder()
+		{
+			super();
+		}
+
+		public SpecialAccountMaxRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.SpecialAccountMaxFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return SpecialAccountMaxFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return SpecialAccountMaxFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return SpecialAccountMaxFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.specialAccountId();
+			attributes[1] = this.accountSpecialCode();
+			attributes[2] = this.specialAccountDescription();
+			attributes[3] = this.specialAccountOpeningDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public SpecialAccountMax findOne(com.gs.fw.finder.Operation operation)
+		{
+			return SpecialAccountMaxFinder.findOne(operation, false);
+		}
+
+		public SpecialAccountMax findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return SpecialAccountMaxFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends SpecialAccountMax> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new SpecialAccountMaxList((Operation) operation);
+		}
+
+		public MithraList<? extends SpecialAccountMax> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			SpecialAccountMaxList result = (SpecialAccountMaxList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends SpecialAccountMax> constructEmptyList()
+		{
+			return new SpecialAccountMaxList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1384133019;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return SpecialAccountMaxFinder.zSourceAttributeType;
+		}
+
+		public LongAttribute<ParentOwnerType> specialAccountId()
+		{
+			LongAttribute<ParentOwnerType> result = this.specialAccountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("SPECIAL_ACCOUNT_ID","","specialAccountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(SpecialAccountMaxFinder.specialAccountId(), this.mapper, this.zGetValueSelector());
+				this.specialAccountId = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> accountSpecialCode()
+		{
+			LongAttribute<ParentOwnerType> result = this.accountSpecialCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("ACCOUNT_SPECIAL_CODE","","accountSpecialCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(SpecialAccountMaxFinder.accountSpecialCode(), this.mapper, this.zGetValueSelector());
+				this.accountSpecialCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> specialAccountDescription()
+		{
+			StringAttribute<ParentOwnerType> result = this.specialAccountDescription;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("SPECIAL_ACCOUNT_DESCRIPTION","","specialAccountDescription",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(SpecialAccountMaxFinder.specialAccountDescription(), this.mapper, this.zGetValueSelector());
+				this.specialAccountDescription = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> specialAccountOpeningDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.specialAccountOpeningDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("SPECIAL_ACCOUNT_OPENING_DATE","","specialAccountOpeningDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(SpecialAccountMaxFinder.specialAccountOpeningDate(), this.mapper, this.zGetValueSelector());
+				this.specialAccountOpeningDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> deskId()
+		{
+			StringAttribute<ParentOwnerType> result = this.deskId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","deskId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(SpecialAccountMaxFinder.deskId(), this.mapper, this.zGetValueSelector());
+				this.deskId = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return SpecialAccountMaxFinder.deskId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return SpecialAccountMaxFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return SpecialAccountMaxFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class SpecialAccountMaxCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends SpecialAccountMaxRelatedFinder<ParentOwnerType, ReturnType, SpecialAccountMaxList, OwnerType>
+	{
+		public SpecialAccountMaxCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class SpecialAccountMaxCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends SpecialAccountMaxCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SpecialAccountMaxCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class SpecialAccountMaxSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends SpecialAccountMaxRelatedFinder<ParentOwnerType, ReturnType, SpecialAccountMaxList, OwnerType>
+	implements ToOneFinder
+	{
+		public SpecialAccountMaxSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public SpecialAccountMaxSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(SpecialAccountMax other)
+		{
+			return this.specialAccountId().eq(other.getSpecialAccountId())
+			.and(this.accountSpecialCode().eq(other.getAccountSpecialCode()))
+			.and(this.deskId().eq(other.getDeskId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public SpecialAccountMax findByPrimaryKey(long specialAccountId, long accountSpecialCode, String deskId)
+		{
+			SpecialAccountMax _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (deskId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(specialAccountId);
+				_bean.setL2AsLong(accountSpecialCode);
+				_bean.setO1(deskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (SpecialAccountMax) _related;
+			if (_related == null)
+			{
+				_op = this.specialAccountId().eq(specialAccountId).and(this.accountSpecialCode().eq(accountSpecialCode)).and(this.deskId().eq(deskId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class SpecialAccountMaxSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends SpecialAccountMaxSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SpecialAccountMaxSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to SPECIAL_ACCOUNT_MAX.SPECIAL_ACCOUNT_ID **/
+	public static LongAttribute<SpecialAccountMax> specialAccountId()
+	{
+		return finder.specialAccountId();
+	}
+
+	/** maps to SPECIAL_ACCOUNT_MAX.ACCOUNT_SPECIAL_CODE **/
+	public static LongAttribute<SpecialAccountMax> accountSpecialCode()
+	{
+		return finder.accountSpecialCode();
+	}
+
+	/** maps to SPECIAL_ACCOUNT_MAX.SPECIAL_ACCOUNT_DESCRIPTION **/
+	public static StringAttribute<SpecialAccountMax> specialAccountDescription()
+	{
+		return finder.specialAccountDescription();
+	}
+
+	/** maps to SPECIAL_ACCOUNT_MAX.SPECIAL_ACCOUNT_OPENING_DATE **/
+	public static TimestampAttribute<SpecialAccountMax> specialAccountOpeningDate()
+	{
+		return finder.specialAccountOpeningDate();
+	}
+
+	public static StringAttribute<SpecialAccountMax> deskId()
+	{
+		return finder.deskId();
+	}
+
+	public static Operation eq(SpecialAccountMax other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(specialAccountId());
+	}
+
+	public static SpecialAccountMaxSingleFinder<SpecialAccountMax, Object, SpecialAccountMax> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			specialAccountId()
+			, accountSpecialCode()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			specialAccountId()
+			, specialAccountId()
+			, accountSpecialCode()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.SpecialAccountMax");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String deskId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(deskId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> deskIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(deskIdSet, listener);
+	}
+}
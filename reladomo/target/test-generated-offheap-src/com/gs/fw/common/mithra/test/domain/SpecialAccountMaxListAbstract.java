@@ -0,0 +1,154 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SpecialAccountMaxListAbstract extends DelegatingList<SpecialAccountMax> implements MithraTransactionalList<SpecialAccountMax>
+{
+	public SpecialAccountMaxListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SpecialAccountMaxListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SpecialAccountMaxListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SpecialAccountMaxListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public SpecialAccountMax[] elements()
+	{
+		SpecialAccountMax[] result = new SpecialAccountMax[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SpecialAccountMaxList intersection(SpecialAccountMaxList another)
+	{
+		return (SpecialAccountMaxList)super.intersection(another);
+	}
+
+	public SpecialAccountMax getSpecialAccountMaxAt(int index)
+	{
+		return (SpecialAccountMax)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SpecialAccountMaxFinder.getMithraObjectPortal();
+	}
+
+	public SpecialAccountMaxList getNonPersistentCopy()
+	{
+		SpecialAccountMaxList result = new SpecialAccountMaxList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SpecialAccountMaxList asAdhoc()
+	{
+		return (SpecialAccountMaxList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<SpecialAccountMax> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public SpecialAccountMaxList merge(MithraTransactionalList<SpecialAccountMax> incoming, TopLevelMergeOptions<SpecialAccountMax> mergeOptions)
+	{
+		return (SpecialAccountMaxList) super.merge(incoming, mergeOptions);
+	}
+
+	public SpecialAccountMaxList getDetachedCopy()
+	{
+		SpecialAccountMaxList result = new SpecialAccountMaxList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+	}
+
+	public void setSpecialAccountId(long newValue)
+	{
+		zSetLong(SpecialAccountMaxFinder.specialAccountId(), newValue);
+	}
+
+	public void setAccountSpecialCode(long newValue)
+	{
+		zSetLong(SpecialAccountMaxFinder.accountSpecialCode(), newValue);
+	}
+
+	public void setSpecialAccountDescription(String newValue)
+	{
+		zSetString(SpecialAccountMaxFinder.specialAccountDescription(), newValue);
+	}
+
+	public void setSpecialAccountOpeningDate(Timestamp newValue)
+	{
+		zSetTimestamp(SpecialAccountMaxFinder.specialAccountOpeningDate(), newValue);
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(SpecialAccountMaxFinder.deskId(), newValue);
+	}
+}
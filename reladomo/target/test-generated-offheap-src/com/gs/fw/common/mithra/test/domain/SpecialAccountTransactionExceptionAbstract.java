@@ -0,0 +1,327 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class SpecialAccountTransactionExceptionAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(SpecialAccountTransactionException.class.getName());
+	public SpecialAccountTransactionExceptionAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public SpecialAccountTransactionException getDetachedCopy() throws MithraBusinessException
+	{
+		return (SpecialAccountTransactionException) super.getDetachedCopy();
+	}
+
+	public SpecialAccountTransactionException getNonPersistentCopy() throws MithraBusinessException
+	{
+		SpecialAccountTransactionException result = (SpecialAccountTransactionException) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public SpecialAccountTransactionException copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (SpecialAccountTransactionException) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public SpecialAccountTransactionException zFindOriginal()
+	{
+		SpecialAccountTransactionExceptionData data = (SpecialAccountTransactionExceptionData) this.currentData;
+		Operation op;
+		op = SpecialAccountTransactionExceptionFinder.specialExceptionId().eq(data.getSpecialExceptionId());
+		op = op.and(SpecialAccountTransactionExceptionFinder.deskId().eq(data.getDeskId()));
+		return SpecialAccountTransactionExceptionFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new SpecialAccountTransactionExceptionData();
+	}
+
+	protected void zSetFromSpecialAccountTransactionExceptionData( SpecialAccountTransactionExceptionData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromSpecialAccountTransactionExceptionData( SpecialAccountTransactionExceptionData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((SpecialAccountTransactionExceptionData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		SpecialAccountTransactionExceptionData data = (SpecialAccountTransactionExceptionData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(SpecialAccountTransactionExceptionFinder.deskId(), newValue, false, false );
+	}
+
+	public boolean isSpecialExceptionDateNull()
+	{
+		return ((SpecialAccountTransactionExceptionData) this.zSynchronizedGetData()).isSpecialExceptionDateNull();
+	}
+
+	public Timestamp getSpecialExceptionDate()
+	{
+		SpecialAccountTransactionExceptionData data = (SpecialAccountTransactionExceptionData) this.zSynchronizedGetData();
+		return data.getSpecialExceptionDate();
+	}
+
+	public void setSpecialExceptionDate(Timestamp newValue)
+	{
+		zSetTimestamp(SpecialAccountTransactionExceptionFinder.specialExceptionDate(), newValue, false, false );
+	}
+
+	public boolean isSpecialExceptionDescriptionNull()
+	{
+		return ((SpecialAccountTransactionExceptionData) this.zSynchronizedGetData()).isSpecialExceptionDescriptionNull();
+	}
+
+	public String getSpecialExceptionDescription()
+	{
+		SpecialAccountTransactionExceptionData data = (SpecialAccountTransactionExceptionData) this.zSynchronizedGetData();
+		return data.getSpecialExceptionDescription();
+	}
+
+	public void setSpecialExceptionDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'specialExceptionDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(SpecialAccountTransactionExceptionFinder.specialExceptionDescription(), newValue, false, false );
+	}
+
+	public boolean isSpecialExceptionIdNull()
+	{
+		return ((SpecialAccountTransactionExceptionData) this.zSynchronizedGetData()).isSpecialExceptionIdNull();
+	}
+
+	public long getSpecialExceptionId()
+	{
+		SpecialAccountTransactionExceptionData data = (SpecialAccountTransactionExceptionData) this.zSynchronizedGetData();
+		return data.getSpecialExceptionId();
+	}
+
+	public void setSpecialExceptionId(long newValue)
+	{
+		zSetLong(SpecialAccountTransactionExceptionFinder.specialExceptionId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		SpecialAccountTransactionExceptionData _newData = (SpecialAccountTransactionExceptionData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		SpecialAccountTransactionExceptionData _newData = (SpecialAccountTransactionExceptionData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SpecialAccountTransactionExceptionData _newData = (SpecialAccountTransactionExceptionData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public SpecialAccountTransactionException zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		SpecialAccountTransactionException original = (SpecialAccountTransactionException) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return SpecialAccountTransactionExceptionFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SpecialAccountTransactionExceptionFinder.getMithraObjectPortal();
+	}
+
+	public SpecialAccountTransactionException getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, SpecialAccountTransactionExceptionFinder.specialExceptionDate(), false);
+		changed |= zUpdateString(behavior, data, newData, SpecialAccountTransactionExceptionFinder.specialExceptionDescription(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, SpecialAccountTransactionExceptionFinder.deskId(), false);
+		changed |= zUpdateLong(behavior, data, newData, SpecialAccountTransactionExceptionFinder.specialExceptionId(), false);
+		return changed;
+	}
+
+	public long generateAndSetSpecialExceptionId()
+	{
+		long nextValue =(long) this.generateSpecialExceptionId();
+		this.setSpecialExceptionId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsSpecialExceptionIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SpecialAccountTransactionExceptionData data = (SpecialAccountTransactionExceptionData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsSpecialExceptionIdSet();
+	}
+
+	protected long generateSpecialExceptionId()
+	{
+		Object sourceAttribute = this.getDeskId();
+		SpecialAccountTransactionExceptionFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGenerator("AccountTransactionExceptionSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SpecialAccountTransactionExceptionData data = (SpecialAccountTransactionExceptionData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsSpecialExceptionIdSet())
+		{
+			data.setSpecialExceptionId(generateSpecialExceptionId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		SpecialAccountTransactionExceptionAbstract result = (SpecialAccountTransactionExceptionAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
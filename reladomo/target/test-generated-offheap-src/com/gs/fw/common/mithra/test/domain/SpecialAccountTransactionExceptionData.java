@@ -0,0 +1,355 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SpecialAccountTransactionExceptionData
+implements MithraDataObject
+{
+	private String deskId;
+	private Timestamp specialExceptionDate;
+	private String specialExceptionDescription;
+	private long specialExceptionId;
+	public boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isSpecialExceptionDateNull()
+	{
+		return this.getSpecialExceptionDate() == null;
+	}
+
+	public boolean isSpecialExceptionDescriptionNull()
+	{
+		return this.getSpecialExceptionDescription() == null;
+	}
+
+	public boolean isSpecialExceptionIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.deskId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.specialExceptionDate);
+		out.writeObject(this.specialExceptionDescription);
+		out.writeLong(this.specialExceptionId);
+		out.writeBoolean(_isSpecialExceptionIdSet);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public int zGetDeskIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+	}
+
+	public void setDeskId(String value)
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, SpecialAccountTransactionExceptionFinder.isFullCache());
+	}
+
+	public void setDeskIdNull()
+	{
+		this.setDeskId(null);
+	}
+
+	public Timestamp getSpecialExceptionDate()
+	{
+		return this.specialExceptionDate;
+	}
+
+	public long zGetSpecialExceptionDateAsLong()
+	{
+		if (specialExceptionDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return specialExceptionDate.getTime();
+	}
+
+	public void setSpecialExceptionDate(Timestamp value)
+	{
+		this.specialExceptionDate = TimestampPool.getInstance().getOrAddToCache(value, SpecialAccountTransactionExceptionFinder.isFullCache(), SpecialAccountTransactionExceptionFinder.isOffHeap());
+	}
+
+	public void setSpecialExceptionDateNull()
+	{
+		this.setSpecialExceptionDate(null);
+	}
+
+	public String getSpecialExceptionDescription()
+	{
+		return this.specialExceptionDescription;
+	}
+
+	public int zGetSpecialExceptionDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(specialExceptionDescription);
+	}
+
+	public void setSpecialExceptionDescription(String value)
+	{
+		this.specialExceptionDescription = StringPool.getInstance().getOrAddToCache(value, SpecialAccountTransactionExceptionFinder.isFullCache());
+	}
+
+	public void setSpecialExceptionDescriptionNull()
+	{
+		this.setSpecialExceptionDescription(null);
+	}
+
+	public long getSpecialExceptionId()
+	{
+		return this.specialExceptionId;
+	}
+
+	public void setSpecialExceptionId(long value)
+	{
+		this.specialExceptionId = value;
+		_isSpecialExceptionIdSet = true;
+	}
+
+	public void setSpecialExceptionIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean _isSpecialExceptionIdSet;
+	public boolean zGetIsSpecialExceptionIdSet()
+	{
+		return _isSpecialExceptionIdSet;
+	}
+
+	protected void copyInto(SpecialAccountTransactionExceptionData copy, boolean withRelationships)
+	{
+		copy.deskId = this.deskId;
+		copy.specialExceptionDate = this.specialExceptionDate;
+		copy.specialExceptionDescription = this.specialExceptionDescription;
+		copy.specialExceptionId = this.specialExceptionId;
+		copy._isSpecialExceptionIdSet = this._isSpecialExceptionIdSet;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SpecialAccountTransactionExceptionFinder.isFullCache());
+		this.specialExceptionDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), SpecialAccountTransactionExceptionFinder.isFullCache(), SpecialAccountTransactionExceptionFinder.isOffHeap());
+		this.specialExceptionDescription = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SpecialAccountTransactionExceptionFinder.isFullCache());
+		this.specialExceptionId = in.readLong();
+		_isSpecialExceptionIdSet = in.readBoolean();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final SpecialAccountTransactionExceptionData otherData = (SpecialAccountTransactionExceptionData) other;
+		if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+		{
+			return false;
+		}
+
+		if (getSpecialExceptionId() != otherData.getSpecialExceptionId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.deskId);
+		out.writeLong(this.specialExceptionId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SpecialAccountTransactionExceptionFinder.isFullCache());
+		this.specialExceptionId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final SpecialAccountTransactionExceptionData specialAccountTransactionExceptionData = (SpecialAccountTransactionExceptionData) newData;
+		this.setDeskId(specialAccountTransactionExceptionData.getDeskId());
+		this.setSpecialExceptionDate(specialAccountTransactionExceptionData.getSpecialExceptionDate());
+		this.setSpecialExceptionDescription(specialAccountTransactionExceptionData.getSpecialExceptionDescription());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final SpecialAccountTransactionExceptionData other = (SpecialAccountTransactionExceptionData) newData;
+		if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if (!isSpecialExceptionDateNull() ? !getSpecialExceptionDate().equals(other.getSpecialExceptionDate()) : !other.isSpecialExceptionDateNull())
+		{
+			return true;
+		}
+
+		if (!isSpecialExceptionDescriptionNull() ? !getSpecialExceptionDescription().equals(other.getSpecialExceptionDescription()) : !other.isSpecialExceptionDescriptionNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		SpecialAccountTransactionExceptionData copy = new SpecialAccountTransactionExceptionData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		SpecialAccountTransactionExceptionData copy = new SpecialAccountTransactionExceptionData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		result += "specialExceptionId: "+(""+getSpecialExceptionId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.SpecialAccountTransactionExceptionData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return SpecialAccountTransactionExceptionFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return SpecialAccountTransactionExceptionFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.SpecialAccountTransactionExceptionData";
+	}
+}
@@ -0,0 +1,659 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class StockAbstract
+implements MithraDatedObject, Serializable
+{
+	protected StockData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp businessDate;
+	private static final RelationshipHashStrategy foranyStockPrice = new AnyStockPriceRhs();
+	private static final RelationshipHashStrategy forstockPrice2 = new StockPrice2Rhs();
+	private static final class AnyStockPriceRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = StockPriceFinder.businessDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Stock _castedSrcObject = (Stock) _srcObject;
+			StockData _castedSrcData = (StockData) _srcData;
+			StockPriceData _castedTargetData = (StockPriceData) _targetData;
+			if (!_castedSrcData.isStockPriceIdNull() && _castedSrcData.getStockPriceId() == _castedTargetData.getStockPriceId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			StockData _castedSrcData = (StockData) _srcData;
+			return HashUtil.hash(_castedSrcData.getStockPriceId(), _castedSrcData.isStockPriceIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class StockPrice2Rhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = StockPriceFinder.businessDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Stock _castedSrcObject = (Stock) _srcObject;
+			StockData _castedSrcData = (StockData) _srcData;
+			StockPriceData _castedTargetData = (StockPriceData) _targetData;
+			if (!_castedSrcData.isStockPriceIdNull() && _castedSrcData.getStockPriceId() == _castedTargetData.getStockPriceId() && (((!_castedTargetData.isActiveNull() && _castedTargetData.getActive() == 'Y')) || _castedTargetData.isActiveNull()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			StockData _castedSrcData = (StockData) _srcData;
+			return HashUtil.hash(_castedSrcData.getStockPriceId(), _castedSrcData.isStockPriceIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public StockAbstract(Timestamp businessDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, StockFinder.isFullCache());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromStockData( StockData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromStockData( StockData data )
+	{
+		this.setFromStockData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromStockData( (StockData) data );
+	}
+
+	public Stock getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		StockAbstract copy = (StockAbstract)
+		StockFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Stock)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		StockData data = (StockData) StockFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("Stock has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return StockFinder.getMithraObjectPortal().getCache();
+	}
+
+	public StockData zGetCurrentDataWithCheck()
+	{
+		StockData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private StockData zRefreshData(StockData current)
+	{
+		StockData newData = (StockData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("Stock has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(StockData current)
+	{
+		boolean refresh = !StockFinder.businessDate().dataMatches(current, businessDate);
+		return refresh;
+	}
+
+	private StockData zGetOrInitializeInMemoryData()
+	{
+		StockData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new StockData.StockDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		StockData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			StockData newData = (StockData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateFromNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		StockData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateFrom(newValue);
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateToNull();
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		StockData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateTo(newValue);
+	}
+
+	public boolean isCompanyNameNull()
+	{
+		return this.zGetCurrentDataWithCheck().isCompanyNameNull();
+	}
+
+	public String getCompanyName()
+	{
+		StockData data = this.zGetCurrentDataWithCheck();
+		return data.getCompanyName();
+	}
+
+	public void setCompanyName(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCompanyName(newValue);
+	}
+
+	public boolean isStockIdNull()
+	{
+		return this.currentData.isStockIdNull();
+	}
+
+	public int getStockId()
+	{
+		StockData data = this.currentData;
+		return data.getStockId();
+	}
+
+	public void setStockId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setStockId(newValue);
+	}
+
+	public boolean isStockPriceIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isStockPriceIdNull();
+	}
+
+	public int getStockPriceId()
+	{
+		StockData data = this.zGetCurrentDataWithCheck();
+		if (data.isStockPriceIdNull())
+		MithraNullPrimitiveException.throwNew("stockPriceId", data);
+		return data.getStockPriceId();
+	}
+
+	public void setStockPriceId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setStockPriceId(newValue);
+	}
+
+	public boolean isTickerNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTickerNull();
+	}
+
+	public String getTicker()
+	{
+		StockData data = this.zGetCurrentDataWithCheck();
+		return data.getTicker();
+	}
+
+	public void setTicker(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTicker(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public void setStockPriceIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setStockPriceIdNull();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	StockPrice.stockPriceId = this.stockPriceId and StockPrice.active = 'Y'</pre>
+	* @return The stock price
+	*/
+	public StockPrice getStockPrice()
+	{
+		StockData _data = ((StockData)this.zGetCurrentDataWithCheck());
+		StockPrice _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (StockPrice) _data.getStockPrice();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			if (!_data.isStockPriceIdNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(StockFinder.stockPrice().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = StockPriceFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	StockPrice.stockPriceId = this.stockPriceId</pre>
+	* @return The any stock price
+	*/
+	public StockPrice getAnyStockPrice()
+	{
+		StockData _data = ((StockData)this.zGetCurrentDataWithCheck());
+		StockPrice _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (StockPrice) _data.getAnyStockPrice();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isStockPriceIdNull())
+			{
+				_portal = StockPriceFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, foranyStockPrice,this.getBusinessDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (StockPrice) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(StockFinder.anyStockPrice().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = StockPriceFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	StockPrice.stockPriceId = this.stockPriceId and (StockPrice.active = 'Y' or StockPrice.active is null)</pre>
+	* @return The stock price2
+	*/
+	public StockPrice getStockPrice2()
+	{
+		StockData _data = ((StockData)this.zGetCurrentDataWithCheck());
+		StockPrice _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (StockPrice) _data.getStockPrice2();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isStockPriceIdNull())
+			{
+				_portal = StockPriceFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forstockPrice2,this.getBusinessDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (StockPrice) _related;
+				if (_related == null)
+				{
+					_op = StockPriceFinder.stockPriceId().eq(_data.getStockPriceId()).and(StockPriceFinder.businessDate().eq(this.getBusinessDate())).and(StockPriceFinder.zGetConstantOperation(0).or(StockPriceFinder.zGetConstantOperation(1)));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = StockPriceFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setStockPrice(StockPrice stockPrice)
+	{
+		this.ensureSetAttributeAllowed();
+		StockData _data = this.zGetCurrentDataWithCheck();
+		_data.setStockPrice(stockPrice);
+		if (stockPrice == null)
+		{
+			this.setStockPriceIdNull();
+		}
+		else
+		{
+			this.setStockPriceId(
+				stockPrice.getStockPriceId());
+		}
+	}
+
+	public void setAnyStockPrice(StockPrice anyStockPrice)
+	{
+		this.ensureSetAttributeAllowed();
+		StockData _data = this.zGetCurrentDataWithCheck();
+		_data.setAnyStockPrice(anyStockPrice);
+		if (anyStockPrice == null)
+		{
+			this.setStockPriceIdNull();
+		}
+		else
+		{
+			this.setStockPriceId(
+				anyStockPrice.getStockPriceId());
+		}
+	}
+
+	public void setStockPrice2(StockPrice stockPrice2)
+	{
+		this.ensureSetAttributeAllowed();
+		StockData _data = this.zGetCurrentDataWithCheck();
+		_data.setStockPrice2(stockPrice2);
+		if (stockPrice2 == null)
+		{
+			this.setStockPriceIdNull();
+		}
+		else
+		{
+			this.setStockPriceId(
+				stockPrice2.getStockPriceId());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		StockData data = ((StockData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		StockData data = ((StockData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new StockData.StockDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), StockFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = StockFinder.businessDate().eq(businessDate);
+			op = op.and(StockFinder.stockId().eq(currentData.getStockId()));
+			return StockFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		StockData localData = (StockData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return StockFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,1045 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface StockData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 40;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isCompanyNameNull();
+	String getCompanyName();
+	void setCompanyName(String value);
+	void setCompanyNameNull();
+	int zGetCompanyNameAsInt();
+	boolean isStockIdNull();
+	int getStockId();
+	void setStockId(int value);
+	void setStockIdNull();
+	boolean isStockPriceIdNull();
+	int getStockPriceId();
+	void setStockPriceId(int value);
+	void setStockPriceIdNull();
+	boolean isTickerNull();
+	String getTicker();
+	void setTicker(String value);
+	void setTickerNull();
+	int zGetTickerAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getStockPrice();
+	void setStockPrice(Object related);
+	Object getAnyStockPrice();
+	void setAnyStockPrice(Object related);
+	Object getStockPrice2();
+	void setStockPrice2(Object related);
+	public class StockDataOnHeap implements StockData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private String companyName;
+		private int stockId;
+		private int stockPriceId;
+		private String ticker;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isCompanyNameNull()
+		{
+			return this.getCompanyName() == null;
+		}
+
+		public boolean isStockIdNull()
+		{
+			return false;
+		}
+
+		public boolean isTickerNull()
+		{
+			return this.getTicker() == null;
+		}
+
+		public boolean isStockPriceIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, StockFinder.businessDate().getInfinityDate());
+			out.writeObject(this.companyName);
+			out.writeInt(this.stockId);
+			out.writeInt(this.stockPriceId);
+			out.writeObject(this.ticker);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, StockFinder.isFullCache(), StockFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, StockFinder.isFullCache(), StockFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCompanyName()
+		{
+			return this.companyName;
+		}
+
+		public int zGetCompanyNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(companyName);
+		}
+
+		public void setCompanyName(String value)
+		{
+			this.companyName = StringPool.getInstance().getOrAddToCache(value, StockFinder.isFullCache());
+		}
+
+		public void setCompanyNameNull()
+		{
+			this.setCompanyName(null);
+		}
+
+		public int getStockId()
+		{
+			return this.stockId;
+		}
+
+		public void setStockId(int value)
+		{
+			this.stockId = value;
+		}
+
+		public void setStockIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getStockPriceId()
+		{
+			return this.stockPriceId;
+		}
+
+		public void setStockPriceId(int value)
+		{
+			this.stockPriceId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public String getTicker()
+		{
+			return this.ticker;
+		}
+
+		public int zGetTickerAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(ticker);
+		}
+
+		public void setTicker(String value)
+		{
+			this.ticker = StringPool.getInstance().getOrAddToCache(value, StockFinder.isFullCache());
+		}
+
+		public void setTickerNull()
+		{
+			this.setTicker(null);
+		}
+
+		public void setStockPriceIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(StockDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.companyName = this.companyName;
+			copy.stockId = this.stockId;
+			copy.stockPriceId = this.stockPriceId;
+			copy.ticker = this.ticker;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[3];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), StockFinder.isFullCache(), StockFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, StockFinder.businessDate().getInfinityDate()), StockFinder.isFullCache(), StockFinder.isOffHeap());
+			this.companyName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), StockFinder.isFullCache());
+			this.stockId = in.readInt();
+			this.stockPriceId = in.readInt();
+			this.ticker = StringPool.getInstance().getOrAddToCache((String)in.readObject(), StockFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final StockData otherData = (StockData) other;
+			if (getStockId() != otherData.getStockId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, StockFinder.businessDate().getInfinityDate());
+			out.writeInt(this.stockId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), StockFinder.isFullCache(), StockFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, StockFinder.businessDate().getInfinityDate()), StockFinder.isFullCache(), StockFinder.isOffHeap());
+			this.stockId = in.readInt();
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getStockPrice()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setStockPrice(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getAnyStockPrice()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setAnyStockPrice(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getStockPrice2()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[2];
+			}
+
+			return null;
+		}
+
+		public void setStockPrice2(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[3];
+			}
+
+			_relationships[2] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			StockDataOffHeap data = new StockDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setCompanyName(this.getCompanyName());
+			data.setStockId(this.getStockId());
+			data.setStockPriceId(this.getStockPriceId());
+			if (this.isStockPriceIdNull()) data.setStockPriceIdNull();
+			data.setTicker(this.getTicker());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final StockData stockData = (StockData) newData;
+			this.setBusinessDateFrom(stockData.getBusinessDateFrom());
+			this.setBusinessDateTo(stockData.getBusinessDateTo());
+			this.setCompanyName(stockData.getCompanyName());
+			this.setStockPriceId(stockData.getStockPriceId());
+			if (stockData.isStockPriceIdNull()) this.setStockPriceIdNull();
+			this.setTicker(stockData.getTicker());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final StockData other = (StockData) newData;
+			if (!isCompanyNameNull() ? !getCompanyName().equals(other.getCompanyName()) : !other.isCompanyNameNull())
+			{
+				return true;
+			}
+
+			if ( isStockPriceIdNull() != other.isStockPriceIdNull() || getStockPriceId() != other.getStockPriceId())
+			{
+				return true;
+			}
+
+			if (!isTickerNull() ? !getTicker().equals(other.getTicker()) : !other.isTickerNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			StockDataOnHeap copy = new StockDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			StockDataOnHeap copy = new StockDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "stockId: "+(""+getStockId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			StockData otherData = (StockData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			StockData otherData = (StockData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.StockData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return StockFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return StockFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.StockData";
+		}
+	}
+
+	public class StockDataOffHeap extends MithraOffHeapDataObject implements StockData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public StockDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 20);
+		}
+
+		public StockDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isCompanyNameNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isStockIdNull()
+		{
+			return false;
+		}
+
+		public boolean isStockPriceIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isTickerNull()
+		{
+			return zIsStringNull(_storage, 36);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), StockFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getCompanyName());
+			out.writeInt(this.getStockId());
+			out.writeInt(this.getStockPriceId());
+			out.writeObject(this.getTicker());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isStockPriceIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCompanyName()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetCompanyNameAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setCompanyName(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setCompanyNameNull()
+		{
+			this.setCompanyName(null);
+		}
+
+		public int getStockId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setStockId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setStockIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getStockPriceId()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setStockPriceId(int value)
+		{
+			zSetInteger(_storage, value, 32, 4, 0);
+		}
+
+		public String getTicker()
+		{
+			return zGetString(_storage, 36);
+		}
+
+		public int zGetTickerAsInt()
+		{
+			return zGetInteger(_storage, 36);
+		}
+
+		public void setTicker(String value)
+		{
+			zSetString(_storage, value, 36);
+		}
+
+		public void setTickerNull()
+		{
+			this.setTicker(null);
+		}
+
+		public void setStockPriceIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(StockDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.companyName = this.getCompanyName();
+			copy.stockId = this.getStockId();
+			copy.stockPriceId = this.getStockPriceId();
+			copy.ticker = this.getTicker();
+			if (isStockPriceIdNull())
+			{
+				copy.setStockPriceIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 32, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 36);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof StockDataOffHeap)
+			{
+				final StockDataOffHeap otherData = (StockDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final StockData otherData = (StockData) other;
+			if (getStockId() != otherData.getStockId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), StockFinder.businessDate().getInfinityDate());
+			out.writeInt(this.getStockId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getStockPrice()
+		{
+			return null;
+		}
+
+		public void setStockPrice(Object related)
+		{
+		}
+
+		public Object getAnyStockPrice()
+		{
+			return null;
+		}
+
+		public void setAnyStockPrice(Object related)
+		{
+		}
+
+		public Object getStockPrice2()
+		{
+			return null;
+		}
+
+		public void setStockPrice2(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final StockData stockData = (StockData) newData;
+			this.setBusinessDateFrom(stockData.getBusinessDateFrom());
+			this.setBusinessDateTo(stockData.getBusinessDateTo());
+			this.setCompanyName(stockData.getCompanyName());
+			this.setStockPriceId(stockData.getStockPriceId());
+			if (stockData.isStockPriceIdNull()) this.setStockPriceIdNull();
+			this.setTicker(stockData.getTicker());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final StockData other = (StockData) newData;
+			if (!isCompanyNameNull() ? !getCompanyName().equals(other.getCompanyName()) : !other.isCompanyNameNull())
+			{
+				return true;
+			}
+
+			if ( isStockPriceIdNull() != other.isStockPriceIdNull() || getStockPriceId() != other.getStockPriceId())
+			{
+				return true;
+			}
+
+			if (!isTickerNull() ? !getTicker().equals(other.getTicker()) : !other.isTickerNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			StockDataOnHeap copy = new StockDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			StockDataOnHeap copy = new StockDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "stockId: "+(""+getStockId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			StockData otherData = (StockData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			StockData otherData = (StockData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.StockData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return StockFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return StockFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.StockData";
+		}
+	}
+}
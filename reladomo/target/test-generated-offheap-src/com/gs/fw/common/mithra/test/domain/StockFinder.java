@@ -0,0 +1,1108 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class StockFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Stock";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Stock";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Stock");
+	private static final StockSingleFinder<Stock, Object, Stock> finder = new StockSingleFinder<Stock, Object, Stock>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(StockFinder.StockRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("stockId");
+		finderMethodMap.addNormalAttributeName("ticker");
+		finderMethodMap.addNormalAttributeName("companyName");
+		finderMethodMap.addNormalAttributeName("stockPriceId");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addRelationshipName("stockPrice");
+		finderMethodMap.addRelationshipName("anyStockPrice");
+		finderMethodMap.addRelationshipName("stockPrice2");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = StockFinder.stockPriceId().constructEqualityMapper(StockPriceFinder.stockPriceId());
+			result[1] = StockPriceFinder.stockPriceId().constructEqualityMapper(StockFinder.stockPriceId());
+			result[2] = StockFinder.businessDate().constructEqualityMapper(StockPriceFinder.businessDate());
+			result[3] = StockPriceFinder.businessDate().constructEqualityMapper(StockFinder.businessDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Stock findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Stock findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static StockList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (StockList) finder.findMany(operation);
+	}
+
+	public static StockList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (StockList) finder.findManyBypassCache(operation);
+	}
+
+	private static Stock findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Stock) FinderUtils.findOne(found);
+	}
+
+	public static Stock findByPrimaryKey(int stockId, Timestamp businessDate)
+	{
+		return finder.findByPrimaryKey(stockId, businessDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			StockData _castedTargetData = (StockData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getStockId())
+			{
+				return StockFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Stock zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Stock) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class StockRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Stock, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> stockId;
+		private StringAttribute<ParentOwnerType> ticker;
+		private StringAttribute<ParentOwnerType> companyName;
+		private IntegerAttribute<ParentOwnerType> stockPriceId;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private StockStockPriceFinderSubclass<ParentOwnerType> stockPrice;
+		private StockAnyStockPriceFinderSubclass<ParentOwnerType> anyStockPrice;
+		private StockStockPrice2FinderSubclass<ParentOwnerType> stockPrice2;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.businessDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public StockRelatedFinder()
+		{
+			super();
+		}
+
+		public StockRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.StockFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return StockFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return StockFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return StockFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.stockId();
+			attributes[1] = this.ticker();
+			attributes[2] = this.companyName();
+			attributes[3] = this.stockPriceId();
+			attributes[4] = this.businessDateFrom();
+			attributes[5] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.stockPrice());
+				relatedFinders.add(this.anyStockPrice());
+				relatedFinders.add(this.stockPrice2());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Stock findOne(com.gs.fw.finder.Operation operation)
+		{
+			return StockFinder.findOne(operation, false);
+		}
+
+		public Stock findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return StockFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Stock> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new StockList((Operation) operation);
+		}
+
+		public MithraList<? extends Stock> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			StockList result = (StockList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Stock> constructEmptyList()
+		{
+			return new StockList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 680004572;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> stockId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.stockId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("STOCK_ID","","stockId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(StockFinder.stockId(), this.mapper, this.zGetValueSelector());
+				this.stockId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> ticker()
+		{
+			StringAttribute<ParentOwnerType> result = this.ticker;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TICKER","","ticker",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,36,-1,-1,20,true, false) :
+					new MappedStringAttribute(StockFinder.ticker(), this.mapper, this.zGetValueSelector());
+				this.ticker = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> companyName()
+		{
+			StringAttribute<ParentOwnerType> result = this.companyName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("COMPANY_NAME","","companyName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,28,-1,-1,30,true, false) :
+					new MappedStringAttribute(StockFinder.companyName(), this.mapper, this.zGetValueSelector());
+				this.companyName = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> stockPriceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.stockPriceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("STOCK_PRICE_ID","","stockPriceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,32,4,0,false, false) :
+					new MappedIntegerAttribute(StockFinder.stockPriceId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("stockPrice");
+				this.stockPriceId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,StockFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(StockFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,StockFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(StockFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),StockFinder.businessDateInfinity,false,true,StockFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(StockFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public StockPriceFinder.StockPriceSingleFinderForRelatedClasses<ParentOwnerType, StockPrice, Stock> stockPrice()
+		{
+			StockStockPriceFinderSubclass<ParentOwnerType> result = this.stockPrice;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(StockFinder.zGetStockStockPriceReverseMapper());
+				newMapper.setToMany(false);
+				result = new StockStockPriceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.stockPrice = result;
+			}
+
+			return result;
+		}
+
+		public StockPriceFinder.StockPriceSingleFinderForRelatedClasses<ParentOwnerType, StockPrice, Stock> anyStockPrice()
+		{
+			StockAnyStockPriceFinderSubclass<ParentOwnerType> result = this.anyStockPrice;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(StockFinder.zGetStockAnyStockPriceReverseMapper());
+				newMapper.setToMany(false);
+				result = new StockAnyStockPriceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.anyStockPrice = result;
+			}
+
+			return result;
+		}
+
+		public StockPriceFinder.StockPriceSingleFinderForRelatedClasses<ParentOwnerType, StockPrice, Stock> stockPrice2()
+		{
+			StockStockPrice2FinderSubclass<ParentOwnerType> result = this.stockPrice2;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(StockFinder.zGetStockStockPrice2ReverseMapper());
+				newMapper.setToMany(false);
+				result = new StockStockPrice2FinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.stockPrice2 = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return StockFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return StockFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class StockCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends StockRelatedFinder<ParentOwnerType, ReturnType, StockList, OwnerType>
+	{
+		public StockCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class StockCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends StockCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public StockCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class StockSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends StockRelatedFinder<ParentOwnerType, ReturnType, StockList, OwnerType>
+	implements ToOneFinder
+	{
+		public StockSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public StockSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Stock other)
+		{
+			return this.stockId().eq(other.getStockId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Stock findByPrimaryKey(int stockId, Timestamp businessDate)
+		{
+			Stock _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(stockId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Stock) _related;
+			if (_related == null)
+			{
+				_op = this.stockId().eq(stockId).and(this.businessDate().eq(businessDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class StockSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends StockSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public StockSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper stockPriceReverseMapper = null;
+	public static Mapper zGetStockStockPriceReverseMapper()
+	{
+		if (stockPriceReverseMapper == null)
+		{
+			stockPriceReverseMapper = zConstructStockStockPriceReverseMapper();
+		}
+
+		return stockPriceReverseMapper;
+	}
+
+	private static Mapper stockPriceMapper = null;
+	public static Mapper zGetStockStockPriceMapper()
+	{
+		if (stockPriceMapper == null)
+		{
+			stockPriceMapper = zConstructStockStockPriceMapper();
+		}
+
+		return stockPriceMapper;
+	}
+
+	private static Mapper stockPricePureReverseMapper = null;
+	public static Mapper zGetStockStockPricePureReverseMapper()
+	{
+		if (stockPricePureReverseMapper == null)
+		{
+			stockPricePureReverseMapper = zConstructStockStockPricePureReverseMapper();
+		}
+
+		return stockPricePureReverseMapper;
+	}
+
+	private static Mapper zConstructStockStockPricePureReverseMapper()
+	{
+		InternalList stockPriceMapperMapperList = new InternalList(2);
+		stockPriceMapperMapperList.add(StockFinder.zGetConstantJoin(0));
+		stockPriceMapperMapperList.add(StockFinder.zGetConstantJoin(2));
+		Mapper stockPriceMapper = new MultiEqualityMapper(stockPriceMapperMapperList);
+		stockPriceMapper.setName("stockPrice");
+		return stockPriceMapper;
+	}
+
+	private static Mapper zConstructStockStockPriceReverseMapper()
+	{
+		InternalList stockPriceMapperInnerMapperMapperList = new InternalList(2);
+		stockPriceMapperInnerMapperMapperList.add(StockFinder.zGetConstantJoin(0));
+		stockPriceMapperInnerMapperMapperList.add(StockFinder.zGetConstantJoin(2));
+		Mapper stockPriceMapperInnerMapper = new MultiEqualityMapper(stockPriceMapperInnerMapperMapperList);
+		Mapper stockPriceMapper = new FilteredMapper(stockPriceMapperInnerMapper, null, StockPriceFinder.zGetConstantOperation(0));
+		stockPriceMapper.setName("stockPrice");
+		return stockPriceMapper;
+	}
+
+	private static Mapper zConstructStockStockPriceMapper()
+	{
+		InternalList stockPriceMapperInnerMapperMapperList = new InternalList(2);
+		stockPriceMapperInnerMapperMapperList.add(StockFinder.zGetConstantJoin(1));
+		stockPriceMapperInnerMapperMapperList.add(StockFinder.zGetConstantJoin(3));
+		Mapper stockPriceMapperInnerMapper = new MultiEqualityMapper(stockPriceMapperInnerMapperMapperList);
+		Mapper stockPriceMapper = new FilteredMapper(stockPriceMapperInnerMapper, StockPriceFinder.zGetConstantOperation(0), null);
+		stockPriceMapper.setName("stockPrice_Reverse");
+		return stockPriceMapper;
+	}
+
+	private static Mapper anyStockPriceReverseMapper = null;
+	public static Mapper zGetStockAnyStockPriceReverseMapper()
+	{
+		if (anyStockPriceReverseMapper == null)
+		{
+			anyStockPriceReverseMapper = zConstructStockAnyStockPriceReverseMapper();
+		}
+
+		return anyStockPriceReverseMapper;
+	}
+
+	private static Mapper anyStockPriceMapper = null;
+	public static Mapper zGetStockAnyStockPriceMapper()
+	{
+		if (anyStockPriceMapper == null)
+		{
+			anyStockPriceMapper = zConstructStockAnyStockPriceMapper();
+		}
+
+		return anyStockPriceMapper;
+	}
+
+	private static Mapper anyStockPricePureReverseMapper = null;
+	public static Mapper zGetStockAnyStockPricePureReverseMapper()
+	{
+		if (anyStockPricePureReverseMapper == null)
+		{
+			anyStockPricePureReverseMapper = zConstructStockAnyStockPricePureReverseMapper();
+		}
+
+		return anyStockPricePureReverseMapper;
+	}
+
+	private static Mapper zConstructStockAnyStockPricePureReverseMapper()
+	{
+		InternalList anyStockPriceMapperMapperList = new InternalList(2);
+		anyStockPriceMapperMapperList.add(StockFinder.zGetConstantJoin(0));
+		anyStockPriceMapperMapperList.add(StockFinder.zGetConstantJoin(2));
+		Mapper anyStockPriceMapper = new MultiEqualityMapper(anyStockPriceMapperMapperList);
+		anyStockPriceMapper.setName("anyStockPrice");
+		return anyStockPriceMapper;
+	}
+
+	private static Mapper zConstructStockAnyStockPriceReverseMapper()
+	{
+		InternalList anyStockPriceMapperMapperList = new InternalList(2);
+		anyStockPriceMapperMapperList.add(StockFinder.zGetConstantJoin(0));
+		anyStockPriceMapperMapperList.add(StockFinder.zGetConstantJoin(2));
+		Mapper anyStockPriceMapper = new MultiEqualityMapper(anyStockPriceMapperMapperList);
+		anyStockPriceMapper.setName("anyStockPrice");
+		return anyStockPriceMapper;
+	}
+
+	private static Mapper zConstructStockAnyStockPriceMapper()
+	{
+		InternalList anyStockPriceMapperMapperList = new InternalList(2);
+		anyStockPriceMapperMapperList.add(StockFinder.zGetConstantJoin(1));
+		anyStockPriceMapperMapperList.add(StockFinder.zGetConstantJoin(3));
+		Mapper anyStockPriceMapper = new MultiEqualityMapper(anyStockPriceMapperMapperList);
+		anyStockPriceMapper.setName("anyStockPrice_Reverse");
+		return anyStockPriceMapper;
+	}
+
+	private static Mapper stockPrice2ReverseMapper = null;
+	public static Mapper zGetStockStockPrice2ReverseMapper()
+	{
+		if (stockPrice2ReverseMapper == null)
+		{
+			stockPrice2ReverseMapper = zConstructStockStockPrice2ReverseMapper();
+		}
+
+		return stockPrice2ReverseMapper;
+	}
+
+	private static Mapper stockPrice2Mapper = null;
+	public static Mapper zGetStockStockPrice2Mapper()
+	{
+		if (stockPrice2Mapper == null)
+		{
+			stockPrice2Mapper = zConstructStockStockPrice2Mapper();
+		}
+
+		return stockPrice2Mapper;
+	}
+
+	private static Mapper stockPrice2PureReverseMapper = null;
+	public static Mapper zGetStockStockPrice2PureReverseMapper()
+	{
+		if (stockPrice2PureReverseMapper == null)
+		{
+			stockPrice2PureReverseMapper = zConstructStockStockPrice2PureReverseMapper();
+		}
+
+		return stockPrice2PureReverseMapper;
+	}
+
+	private static Mapper zConstructStockStockPrice2PureReverseMapper()
+	{
+		InternalList stockPrice2MapperMapperList = new InternalList(2);
+		stockPrice2MapperMapperList.add(StockFinder.zGetConstantJoin(0));
+		stockPrice2MapperMapperList.add(StockFinder.zGetConstantJoin(2));
+		Mapper stockPrice2Mapper = new MultiEqualityMapper(stockPrice2MapperMapperList);
+		stockPrice2Mapper.setName("stockPrice2");
+		return stockPrice2Mapper;
+	}
+
+	private static Mapper zConstructStockStockPrice2ReverseMapper()
+	{
+		InternalList stockPrice2MapperInnerMapperMapperList = new InternalList(2);
+		stockPrice2MapperInnerMapperMapperList.add(StockFinder.zGetConstantJoin(0));
+		stockPrice2MapperInnerMapperMapperList.add(StockFinder.zGetConstantJoin(2));
+		Mapper stockPrice2MapperInnerMapper = new MultiEqualityMapper(stockPrice2MapperInnerMapperMapperList);
+		Mapper stockPrice2Mapper = new FilteredMapper(stockPrice2MapperInnerMapper, null, StockPriceFinder.zGetConstantOperation(0).or(StockPriceFinder.zGetConstantOperation(1)));
+		stockPrice2Mapper.setName("stockPrice2");
+		return stockPrice2Mapper;
+	}
+
+	private static Mapper zConstructStockStockPrice2Mapper()
+	{
+		InternalList stockPrice2MapperInnerMapperMapperList = new InternalList(2);
+		stockPrice2MapperInnerMapperMapperList.add(StockFinder.zGetConstantJoin(1));
+		stockPrice2MapperInnerMapperMapperList.add(StockFinder.zGetConstantJoin(3));
+		Mapper stockPrice2MapperInnerMapper = new MultiEqualityMapper(stockPrice2MapperInnerMapperMapperList);
+		Mapper stockPrice2Mapper = new FilteredMapper(stockPrice2MapperInnerMapper, StockPriceFinder.zGetConstantOperation(0).or(StockPriceFinder.zGetConstantOperation(1)), null);
+		stockPrice2Mapper.setName("stockPrice2_Reverse");
+		return stockPrice2Mapper;
+	}
+
+	/** maps to STOCK.STOCK_ID **/
+	public static IntegerAttribute<Stock> stockId()
+	{
+		return finder.stockId();
+	}
+
+	/** maps to STOCK.TICKER **/
+	public static StringAttribute<Stock> ticker()
+	{
+		return finder.ticker();
+	}
+
+	/** maps to STOCK.COMPANY_NAME **/
+	public static StringAttribute<Stock> companyName()
+	{
+		return finder.companyName();
+	}
+
+	/** maps to STOCK.STOCK_PRICE_ID **/
+	public static IntegerAttribute<Stock> stockPriceId()
+	{
+		return finder.stockPriceId();
+	}
+
+	/** maps to STOCK.FROM_Z **/
+	public static TimestampAttribute<Stock> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to STOCK.THRU_Z **/
+	public static TimestampAttribute<Stock> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<Stock> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static StockPriceFinder.StockPriceSingleFinderForRelatedClasses<Stock, StockPrice, Stock> stockPrice()
+	{
+		return finder.stockPrice();
+	}
+
+	public static class StockStockPriceFinderSubclass<ParentOwnerType> extends StockPriceFinder.StockPriceSingleFinderForRelatedClasses<ParentOwnerType, StockPrice, Stock>
+	{
+		public StockStockPriceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "stockPrice";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				StockPriceFinder.active(),
+				StockPriceFinder.stockPriceId(),
+				StockPriceFinder.businessDate()).withExtractors(
+				((OperationWithParameterExtractor)StockPriceFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				StockFinder.stockPriceId(),
+				StockFinder.businessDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new StockStockPriceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected StockPrice plainValueOf(Stock _obj)
+		{
+			return _obj.getStockPrice();
+		}
+
+		protected StockPriceList plainListValueOf(Object _obj)
+		{
+			return ((StockList)_obj).getStockPrices();
+		}
+	}
+
+	public static StockPriceFinder.StockPriceSingleFinderForRelatedClasses<Stock, StockPrice, Stock> anyStockPrice()
+	{
+		return finder.anyStockPrice();
+	}
+
+	public static class StockAnyStockPriceFinderSubclass<ParentOwnerType> extends StockPriceFinder.StockPriceSingleFinderForRelatedClasses<ParentOwnerType, StockPrice, Stock>
+	{
+		public StockAnyStockPriceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "anyStockPrice";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				StockPriceFinder.stockPriceId(),
+				StockPriceFinder.businessDate()).withExtractors(
+				StockFinder.stockPriceId(),
+				StockFinder.businessDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new StockAnyStockPriceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected StockPrice plainValueOf(Stock _obj)
+		{
+			return _obj.getAnyStockPrice();
+		}
+
+		protected StockPriceList plainListValueOf(Object _obj)
+		{
+			return ((StockList)_obj).getAnyStockPrices();
+		}
+	}
+
+	public static StockPriceFinder.StockPriceSingleFinderForRelatedClasses<Stock, StockPrice, Stock> stockPrice2()
+	{
+		return finder.stockPrice2();
+	}
+
+	public static class StockStockPrice2FinderSubclass<ParentOwnerType> extends StockPriceFinder.StockPriceSingleFinderForRelatedClasses<ParentOwnerType, StockPrice, Stock>
+	{
+		public StockStockPrice2FinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "stockPrice2";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new StockStockPrice2FinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected StockPrice plainValueOf(Stock _obj)
+		{
+			return _obj.getStockPrice2();
+		}
+
+		protected StockPriceList plainListValueOf(Object _obj)
+		{
+			return ((StockList)_obj).getStockPrice2s();
+		}
+	}
+
+	public static Operation eq(Stock other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(stockId());
+	}
+
+	public static StockSingleFinder<Stock, Object, Stock> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			stockId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			stockId()
+			, stockId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			stockPriceId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Stock");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,138 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class StockListAbstract extends DelegatingList<Stock> implements MithraList<Stock>
+{
+	public StockListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public StockListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public StockListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public StockListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Stock[] elements()
+	{
+		Stock[] result = new Stock[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public StockList intersection(StockList another)
+	{
+		return (StockList)super.intersection(another);
+	}
+
+	public Stock getStockAt(int index)
+	{
+		return (Stock)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	StockPrice.stockPriceId = this.stockPriceId and StockPrice.active = 'Y'</pre>
+	* @return The stock price
+	*/
+	public StockPriceList getStockPrices()
+	{
+		return (StockPriceList) this.zGetDelegated().resolveRelationship(this, StockFinder.stockPrice());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	StockPrice.stockPriceId = this.stockPriceId</pre>
+	* @return The any stock price
+	*/
+	public StockPriceList getAnyStockPrices()
+	{
+		return (StockPriceList) this.zGetDelegated().resolveRelationship(this, StockFinder.anyStockPrice());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	StockPrice.stockPriceId = this.stockPriceId and (StockPrice.active = 'Y' or StockPrice.active is null)</pre>
+	* @return The stock price2
+	*/
+	public StockPriceList getStockPrice2s()
+	{
+		return (StockPriceList) this.zGetDelegated().resolveRelationship(this, StockFinder.stockPrice2());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return StockFinder.getMithraObjectPortal();
+	}
+
+	public StockList getNonPersistentCopy()
+	{
+		StockList result = new StockList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public StockList asAdhoc()
+	{
+		return (StockList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Stock> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
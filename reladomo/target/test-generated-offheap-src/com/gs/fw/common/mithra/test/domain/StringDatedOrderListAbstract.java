@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class StringDatedOrderListAbstract extends DelegatingList<StringDatedOrder> implements MithraTransactionalList<StringDatedOrder>
+{
+	public StringDatedOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public StringDatedOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public StringDatedOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public StringDatedOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public StringDatedOrder[] elements()
+	{
+		StringDatedOrder[] result = new StringDatedOrder[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public StringDatedOrderList intersection(StringDatedOrderList another)
+	{
+		return (StringDatedOrderList)super.intersection(another);
+	}
+
+	public StringDatedOrder getStringDatedOrderAt(int index)
+	{
+		return (StringDatedOrder)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return StringDatedOrderFinder.getMithraObjectPortal();
+	}
+
+	public StringDatedOrderList getNonPersistentCopy()
+	{
+		StringDatedOrderList result = new StringDatedOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public StringDatedOrderList asAdhoc()
+	{
+		return (StringDatedOrderList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<StringDatedOrder> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public StringDatedOrderList merge(MithraTransactionalList<StringDatedOrder> incoming, TopLevelMergeOptions<StringDatedOrder> mergeOptions)
+	{
+		return (StringDatedOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public StringDatedOrderList getDetachedCopy()
+	{
+		StringDatedOrderList result = new StringDatedOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(StringDatedOrderFinder.orderId(), newValue);
+	}
+
+	public void setProcessingDate(Timestamp newValue)
+	{
+		zSetTimestamp(StringDatedOrderFinder.processingDate(), newValue);
+	}
+
+	public void setOrderDate(Date newValue)
+	{
+		zSetDate(StringDatedOrderFinder.orderDate(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(StringDatedOrderFinder.userId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(StringDatedOrderFinder.description(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(StringDatedOrderFinder.userId());
+	}
+}
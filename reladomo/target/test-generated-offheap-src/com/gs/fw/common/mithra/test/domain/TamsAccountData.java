@@ -0,0 +1,1189 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TamsAccountData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 56;
+	boolean isAccountNumberNull();
+	String getAccountNumber();
+	void setAccountNumber(String value);
+	void setAccountNumberNull();
+	int zGetAccountNumberAsInt();
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isCodeNull();
+	String getCode();
+	void setCode(String value);
+	void setCodeNull();
+	int zGetCodeAsInt();
+	boolean isDeskIdNull();
+	String getDeskId();
+	void setDeskId(String value);
+	void setDeskIdNull();
+	int zGetDeskIdAsInt();
+	boolean isPnlGroupIdNull();
+	String getPnlGroupId();
+	void setPnlGroupId(String value);
+	void setPnlGroupIdNull();
+	int zGetPnlGroupIdAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isTrialIdNull();
+	String getTrialId();
+	void setTrialId(String value);
+	void setTrialIdNull();
+	int zGetTrialIdAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TamsAccountDataOnHeap implements TamsAccountData
+	{
+		private byte _dataVersion;
+		private String accountNumber;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private String code;
+		private String deskId;
+		private String pnlGroupId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String trialId;
+		public boolean isAccountNumberNull()
+		{
+			return this.getAccountNumber() == null;
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isCodeNull()
+		{
+			return this.getCode() == null;
+		}
+
+		public boolean isDeskIdNull()
+		{
+			return this.getDeskId() == null;
+		}
+
+		public boolean isPnlGroupIdNull()
+		{
+			return this.getPnlGroupId() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isTrialIdNull()
+		{
+			return this.getTrialId() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.accountNumber);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, TamsAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.code);
+			out.writeObject(this.deskId);
+			out.writeObject(this.pnlGroupId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TamsAccountFinder.processingDate().getInfinityDate());
+			out.writeObject(this.trialId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getAccountNumber()
+		{
+			return this.accountNumber;
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountNumber);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache(value, TamsAccountFinder.isFullCache());
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCode()
+		{
+			return this.code;
+		}
+
+		public int zGetCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(code);
+		}
+
+		public void setCode(String value)
+		{
+			this.code = StringPool.getInstance().getOrAddToCache(value, TamsAccountFinder.isFullCache());
+		}
+
+		public void setCodeNull()
+		{
+			this.setCode(null);
+		}
+
+		public String getDeskId()
+		{
+			return this.deskId;
+		}
+
+		public int zGetDeskIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+		}
+
+		public void setDeskId(String value)
+		{
+			this.deskId = StringPool.getInstance().getOrAddToCache(value, TamsAccountFinder.isFullCache());
+		}
+
+		public void setDeskIdNull()
+		{
+			this.setDeskId(null);
+		}
+
+		public String getPnlGroupId()
+		{
+			return this.pnlGroupId;
+		}
+
+		public int zGetPnlGroupIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(pnlGroupId);
+		}
+
+		public void setPnlGroupId(String value)
+		{
+			this.pnlGroupId = StringPool.getInstance().getOrAddToCache(value, TamsAccountFinder.isFullCache());
+		}
+
+		public void setPnlGroupIdNull()
+		{
+			this.setPnlGroupId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTrialId()
+		{
+			return this.trialId;
+		}
+
+		public int zGetTrialIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(trialId);
+		}
+
+		public void setTrialId(String value)
+		{
+			this.trialId = StringPool.getInstance().getOrAddToCache(value, TamsAccountFinder.isFullCache());
+		}
+
+		public void setTrialIdNull()
+		{
+			this.setTrialId(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TamsAccountDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountNumber = this.accountNumber;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.code = this.code;
+			copy.deskId = this.deskId;
+			copy.pnlGroupId = this.pnlGroupId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.trialId = this.trialId;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsAccountFinder.isFullCache());
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsAccountFinder.businessDate().getInfinityDate()), TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+			this.code = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsAccountFinder.isFullCache());
+			this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsAccountFinder.isFullCache());
+			this.pnlGroupId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsAccountFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsAccountFinder.processingDate().getInfinityDate()), TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+			this.trialId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsAccountFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TamsAccountData otherData = (TamsAccountData) other;
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(otherData.getAccountNumber()) : !otherData.isAccountNumberNull())
+			{
+				return false;
+			}
+
+			if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.accountNumber);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, TamsAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.deskId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TamsAccountFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsAccountFinder.isFullCache());
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsAccountFinder.businessDate().getInfinityDate()), TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+			this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsAccountFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsAccountFinder.processingDate().getInfinityDate()), TamsAccountFinder.isFullCache(), TamsAccountFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TamsAccountDataOffHeap data = new TamsAccountDataOffHeap();
+			data.setAccountNumber(this.getAccountNumber());
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setCode(this.getCode());
+			data.setDeskId(this.getDeskId());
+			data.setPnlGroupId(this.getPnlGroupId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setTrialId(this.getTrialId());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TamsAccountData tamsAccountData = (TamsAccountData) newData;
+			this.setBusinessDateFrom(tamsAccountData.getBusinessDateFrom());
+			this.setBusinessDateTo(tamsAccountData.getBusinessDateTo());
+			this.setCode(tamsAccountData.getCode());
+			this.setDeskId(tamsAccountData.getDeskId());
+			this.setPnlGroupId(tamsAccountData.getPnlGroupId());
+			this.setProcessingDateFrom(tamsAccountData.getProcessingDateFrom());
+			this.setProcessingDateTo(tamsAccountData.getProcessingDateTo());
+			this.setTrialId(tamsAccountData.getTrialId());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TamsAccountData other = (TamsAccountData) newData;
+			if (!isCodeNull() ? !getCode().equals(other.getCode()) : !other.isCodeNull())
+			{
+				return true;
+			}
+
+			if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+			{
+				return true;
+			}
+
+			if (!isPnlGroupIdNull() ? !getPnlGroupId().equals(other.getPnlGroupId()) : !other.isPnlGroupIdNull())
+			{
+				return true;
+			}
+
+			if (!isTrialIdNull() ? !getTrialId().equals(other.getTrialId()) : !other.isTrialIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TamsAccountDataOnHeap copy = new TamsAccountDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TamsAccountDataOnHeap copy = new TamsAccountDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountNumber: "+"'"+getAccountNumber()+"'"+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TamsAccountData otherData = (TamsAccountData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TamsAccountData otherData = (TamsAccountData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsAccountData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TamsAccountFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TamsAccountFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsAccountData";
+		}
+	}
+
+	public class TamsAccountDataOffHeap extends MithraOffHeapDataObject implements TamsAccountData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TamsAccountDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 36);
+			this.zSetTimestamp(_storage, value, 44);
+		}
+
+		public TamsAccountDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccountNumberNull()
+		{
+			return zIsStringNull(_storage, 8);
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isCodeNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isDeskIdNull()
+		{
+			return zIsStringNull(_storage, 4);
+		}
+
+		public boolean isPnlGroupIdNull()
+		{
+			return zIsStringNull(_storage, 32);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 36);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 44);
+		}
+
+		public boolean isTrialIdNull()
+		{
+			return zIsStringNull(_storage, 52);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAccountNumber());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TamsAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getCode());
+			out.writeObject(this.getDeskId());
+			out.writeObject(this.getPnlGroupId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TamsAccountFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getTrialId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getAccountNumber()
+		{
+			return zGetString(_storage, 8);
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			zSetString(_storage, value, 8);
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCode()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetCodeAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setCode(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setCodeNull()
+		{
+			this.setCode(null);
+		}
+
+		public String getDeskId()
+		{
+			return zGetString(_storage, 4);
+		}
+
+		public int zGetDeskIdAsInt()
+		{
+			return zGetInteger(_storage, 4);
+		}
+
+		public void setDeskId(String value)
+		{
+			zSetString(_storage, value, 4);
+		}
+
+		public void setDeskIdNull()
+		{
+			this.setDeskId(null);
+		}
+
+		public String getPnlGroupId()
+		{
+			return zGetString(_storage, 32);
+		}
+
+		public int zGetPnlGroupIdAsInt()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setPnlGroupId(String value)
+		{
+			zSetString(_storage, value, 32);
+		}
+
+		public void setPnlGroupIdNull()
+		{
+			this.setPnlGroupId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 36);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 36);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 36);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 44);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 44);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 44);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTrialId()
+		{
+			return zGetString(_storage, 52);
+		}
+
+		public int zGetTrialIdAsInt()
+		{
+			return zGetInteger(_storage, 52);
+		}
+
+		public void setTrialId(String value)
+		{
+			zSetString(_storage, value, 52);
+		}
+
+		public void setTrialIdNull()
+		{
+			this.setTrialId(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TamsAccountDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountNumber = this.getAccountNumber();
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.code = this.getCode();
+			copy.deskId = this.getDeskId();
+			copy.pnlGroupId = this.getPnlGroupId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.trialId = this.getTrialId();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetString(_storage, (String)in.readObject(), 4);
+			zSetString(_storage, (String)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 44);
+			zSetString(_storage, (String)in.readObject(), 52);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TamsAccountDataOffHeap)
+			{
+				final TamsAccountDataOffHeap otherData = (TamsAccountDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 4) != otherData.zGetInteger(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TamsAccountData otherData = (TamsAccountData) other;
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(otherData.getAccountNumber()) : !otherData.isAccountNumberNull())
+			{
+				return false;
+			}
+
+			if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.getAccountNumber());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TamsAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getDeskId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TamsAccountFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetString(_storage, (String)in.readObject(), 4);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 44);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TamsAccountData tamsAccountData = (TamsAccountData) newData;
+			this.setBusinessDateFrom(tamsAccountData.getBusinessDateFrom());
+			this.setBusinessDateTo(tamsAccountData.getBusinessDateTo());
+			this.setCode(tamsAccountData.getCode());
+			this.setDeskId(tamsAccountData.getDeskId());
+			this.setPnlGroupId(tamsAccountData.getPnlGroupId());
+			this.setProcessingDateFrom(tamsAccountData.getProcessingDateFrom());
+			this.setProcessingDateTo(tamsAccountData.getProcessingDateTo());
+			this.setTrialId(tamsAccountData.getTrialId());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TamsAccountData other = (TamsAccountData) newData;
+			if (!isCodeNull() ? !getCode().equals(other.getCode()) : !other.isCodeNull())
+			{
+				return true;
+			}
+
+			if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+			{
+				return true;
+			}
+
+			if (!isPnlGroupIdNull() ? !getPnlGroupId().equals(other.getPnlGroupId()) : !other.isPnlGroupIdNull())
+			{
+				return true;
+			}
+
+			if (!isTrialIdNull() ? !getTrialId().equals(other.getTrialId()) : !other.isTrialIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TamsAccountDataOnHeap copy = new TamsAccountDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TamsAccountDataOnHeap copy = new TamsAccountDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountNumber: "+"'"+getAccountNumber()+"'"+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TamsAccountData otherData = (TamsAccountData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TamsAccountData otherData = (TamsAccountData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsAccountData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TamsAccountFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TamsAccountFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsAccountData";
+		}
+	}
+}
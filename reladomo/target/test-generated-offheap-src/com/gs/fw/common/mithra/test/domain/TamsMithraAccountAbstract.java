@@ -0,0 +1,607 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrial;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialAbstract;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialData;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialFinder;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class TamsMithraAccountAbstract
+implements MithraDatedObject, Serializable
+{
+	protected TamsMithraAccountData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp businessDate;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy fortrial = new TrialRhs();
+	private static final class TrialRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = TestTamsMithraTrialFinder.businessDate();
+		private AsOfAttribute processingDate = TestTamsMithraTrialFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TamsMithraAccount _castedSrcObject = (TamsMithraAccount) _srcObject;
+			TamsMithraAccountData _castedSrcData = (TamsMithraAccountData) _srcData;
+			TestTamsMithraTrialData _castedTargetData = (TestTamsMithraTrialData) _targetData;
+			if (_castedSrcData.isTrialIdNull() == _castedTargetData.isTrialIdNull() && (_castedSrcData.isTrialIdNull() || _castedSrcData.getTrialId().equals(_castedTargetData.getTrialId())))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TamsMithraAccountData _castedSrcData = (TamsMithraAccountData) _srcData;
+			return HashUtil.hash(_castedSrcData.getTrialId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TamsMithraAccountData _castedSrcData = (TamsMithraAccountData) _srcData;
+			return HashUtil.offHeapHash(_castedSrcData.zGetTrialIdAsInt());
+		}
+	}
+
+	public TamsMithraAccountAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TamsMithraAccountFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TamsMithraAccountFinder.isFullCache());
+	}
+
+	public TamsMithraAccountAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromTamsMithraAccountData( TamsMithraAccountData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromTamsMithraAccountData( TamsMithraAccountData data )
+	{
+		this.setFromTamsMithraAccountData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromTamsMithraAccountData( (TamsMithraAccountData) data );
+	}
+
+	public TamsMithraAccount getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TamsMithraAccountAbstract copy = (TamsMithraAccountAbstract)
+		TamsMithraAccountFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (TamsMithraAccount)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TamsMithraAccountData data = (TamsMithraAccountData) TamsMithraAccountFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TamsMithraAccount has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return TamsMithraAccountFinder.getMithraObjectPortal().getCache();
+	}
+
+	public TamsMithraAccountData zGetCurrentDataWithCheck()
+	{
+		TamsMithraAccountData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private TamsMithraAccountData zRefreshData(TamsMithraAccountData current)
+	{
+		TamsMithraAccountData newData = (TamsMithraAccountData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("TamsMithraAccount has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(TamsMithraAccountData current)
+	{
+		boolean refresh = !TamsMithraAccountFinder.businessDate().dataMatches(current, businessDate);
+		if (!refresh)
+		{
+			refresh = !TamsMithraAccountFinder.processingDate().dataMatches(current, processingDate);
+		}
+
+		return refresh;
+	}
+
+	private TamsMithraAccountData zGetOrInitializeInMemoryData()
+	{
+		TamsMithraAccountData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new TamsMithraAccountData.TamsMithraAccountDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		TamsMithraAccountData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			TamsMithraAccountData newData = (TamsMithraAccountData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isAccountNumberNull()
+	{
+		return this.currentData.isAccountNumberNull();
+	}
+
+	public String getAccountNumber()
+	{
+		TamsMithraAccountData data = this.currentData;
+		return data.getAccountNumber();
+	}
+
+	public void setAccountNumber(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setAccountNumber(newValue);
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateFromNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		TamsMithraAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateFrom(newValue);
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateToNull();
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		TamsMithraAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateTo(newValue);
+	}
+
+	public boolean isCodeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isCodeNull();
+	}
+
+	public String getCode()
+	{
+		TamsMithraAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getCode();
+	}
+
+	public void setCode(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCode(newValue);
+	}
+
+	public boolean isPnlGroupIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isPnlGroupIdNull();
+	}
+
+	public String getPnlGroupId()
+	{
+		TamsMithraAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getPnlGroupId();
+	}
+
+	public void setPnlGroupId(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPnlGroupId(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		TamsMithraAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		TamsMithraAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isTrialIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTrialIdNull();
+	}
+
+	public String getTrialId()
+	{
+		TamsMithraAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getTrialId();
+	}
+
+	public void setTrialId(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTrialId(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.trialId = TestTamsMithraTrial.trialId</pre>
+	* @return The trial
+	*/
+	public TestTamsMithraTrial getTrial()
+	{
+		TamsMithraAccountData _data = ((TamsMithraAccountData)this.zGetCurrentDataWithCheck());
+		TestTamsMithraTrial _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (TestTamsMithraTrial) _data.getTrial();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isTrialIdNull())
+			{
+				_portal = TestTamsMithraTrialFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneByIndexFromCache(this, _data, fortrial,this.getBusinessDate(),this.getProcessingDate(), TestTamsMithraTrialFinder.zGetIndexbyTrialRef());
+				if (!(_related instanceof NulledRelation)) _result = (TestTamsMithraTrial) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(TamsMithraAccountFinder.trial().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = TestTamsMithraTrialFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TamsMithraAccountArbsClassification.accountId = this.accountNumber and
+	TamsMithraAccountArbsClassification.classificationId = TamsMithraArbsClassification.id and
+	TamsMithraAccountArbsClassification.businessDate = this.businessDate and
+	TamsMithraArbsClassification.typeAsString = { type }</pre>
+	* @return The arbs classification by type
+	*/
+	public TamsMithraArbsClassification getArbsClassificationByType(String type)
+	{
+		TamsMithraAccountData _data = ((TamsMithraAccountData)this.zGetCurrentDataWithCheck());
+		TamsMithraArbsClassification _result = null;
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new MappedOperation(TamsMithraAccountFinder.zGetArbsClassificationByTypeMapperFragment(type), TamsMithraAccountArbsClassificationFinder.accountId().eq(_data.getAccountNumber()).and(TamsMithraAccountArbsClassificationFinder.businessDate().eq(this.getBusinessDate())).and(TamsMithraAccountArbsClassificationFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = TamsMithraArbsClassificationFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setTrial(TestTamsMithraTrial trial)
+	{
+		this.ensureSetAttributeAllowed();
+		TamsMithraAccountData _data = this.zGetCurrentDataWithCheck();
+		_data.setTrial(trial);
+		if (trial == null)
+		{
+			this.setTrialId(null);
+		}
+		else
+		{
+			this.setTrialId(
+				trial.getTrialId());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TamsMithraAccountData data = ((TamsMithraAccountData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TamsMithraAccountData data = ((TamsMithraAccountData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new TamsMithraAccountData.TamsMithraAccountDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TamsMithraAccountFinder.isFullCache());
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TamsMithraAccountFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = TamsMithraAccountFinder.businessDate().eq(businessDate);
+			op = op.and(TamsMithraAccountFinder.processingDate().eq(processingDate));
+			op = op.and(TamsMithraAccountFinder.accountNumber().eq(currentData.getAccountNumber()));
+			return TamsMithraAccountFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TamsMithraAccountData localData = (TamsMithraAccountData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TamsMithraAccountFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,1158 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrial;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialAbstract;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialData;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialFinder;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TamsMithraAccountData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 52;
+	boolean isAccountNumberNull();
+	String getAccountNumber();
+	void setAccountNumber(String value);
+	void setAccountNumberNull();
+	int zGetAccountNumberAsInt();
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isCodeNull();
+	String getCode();
+	void setCode(String value);
+	void setCodeNull();
+	int zGetCodeAsInt();
+	boolean isPnlGroupIdNull();
+	String getPnlGroupId();
+	void setPnlGroupId(String value);
+	void setPnlGroupIdNull();
+	int zGetPnlGroupIdAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isTrialIdNull();
+	String getTrialId();
+	void setTrialId(String value);
+	void setTrialIdNull();
+	int zGetTrialIdAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getTrial();
+	void setTrial(Object related);
+	public class TamsMithraAccountDataOnHeap implements TamsMithraAccountData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private String accountNumber;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private String code;
+		private String pnlGroupId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String trialId;
+		public boolean isAccountNumberNull()
+		{
+			return this.getAccountNumber() == null;
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isCodeNull()
+		{
+			return this.getCode() == null;
+		}
+
+		public boolean isPnlGroupIdNull()
+		{
+			return this.getPnlGroupId() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isTrialIdNull()
+		{
+			return this.getTrialId() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.accountNumber);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, TamsMithraAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.code);
+			out.writeObject(this.pnlGroupId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TamsMithraAccountFinder.processingDate().getInfinityDate());
+			out.writeObject(this.trialId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getAccountNumber()
+		{
+			return this.accountNumber;
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountNumber);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache(value, TamsMithraAccountFinder.isFullCache());
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCode()
+		{
+			return this.code;
+		}
+
+		public int zGetCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(code);
+		}
+
+		public void setCode(String value)
+		{
+			this.code = StringPool.getInstance().getOrAddToCache(value, TamsMithraAccountFinder.isFullCache());
+		}
+
+		public void setCodeNull()
+		{
+			this.setCode(null);
+		}
+
+		public String getPnlGroupId()
+		{
+			return this.pnlGroupId;
+		}
+
+		public int zGetPnlGroupIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(pnlGroupId);
+		}
+
+		public void setPnlGroupId(String value)
+		{
+			this.pnlGroupId = StringPool.getInstance().getOrAddToCache(value, TamsMithraAccountFinder.isFullCache());
+		}
+
+		public void setPnlGroupIdNull()
+		{
+			this.setPnlGroupId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTrialId()
+		{
+			return this.trialId;
+		}
+
+		public int zGetTrialIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(trialId);
+		}
+
+		public void setTrialId(String value)
+		{
+			this.trialId = StringPool.getInstance().getOrAddToCache(value, TamsMithraAccountFinder.isFullCache());
+		}
+
+		public void setTrialIdNull()
+		{
+			this.setTrialId(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TamsMithraAccountDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountNumber = this.accountNumber;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.code = this.code;
+			copy.pnlGroupId = this.pnlGroupId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.trialId = this.trialId;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsMithraAccountFinder.isFullCache());
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsMithraAccountFinder.businessDate().getInfinityDate()), TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+			this.code = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsMithraAccountFinder.isFullCache());
+			this.pnlGroupId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsMithraAccountFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsMithraAccountFinder.processingDate().getInfinityDate()), TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+			this.trialId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsMithraAccountFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TamsMithraAccountData otherData = (TamsMithraAccountData) other;
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(otherData.getAccountNumber()) : !otherData.isAccountNumberNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.accountNumber);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, TamsMithraAccountFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TamsMithraAccountFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsMithraAccountFinder.isFullCache());
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsMithraAccountFinder.businessDate().getInfinityDate()), TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsMithraAccountFinder.processingDate().getInfinityDate()), TamsMithraAccountFinder.isFullCache(), TamsMithraAccountFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getTrial()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setTrial(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TamsMithraAccountDataOffHeap data = new TamsMithraAccountDataOffHeap();
+			data.setAccountNumber(this.getAccountNumber());
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setCode(this.getCode());
+			data.setPnlGroupId(this.getPnlGroupId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setTrialId(this.getTrialId());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TamsMithraAccountData tamsMithraAccountData = (TamsMithraAccountData) newData;
+			this.setBusinessDateFrom(tamsMithraAccountData.getBusinessDateFrom());
+			this.setBusinessDateTo(tamsMithraAccountData.getBusinessDateTo());
+			this.setCode(tamsMithraAccountData.getCode());
+			this.setPnlGroupId(tamsMithraAccountData.getPnlGroupId());
+			this.setProcessingDateFrom(tamsMithraAccountData.getProcessingDateFrom());
+			this.setProcessingDateTo(tamsMithraAccountData.getProcessingDateTo());
+			this.setTrialId(tamsMithraAccountData.getTrialId());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TamsMithraAccountData other = (TamsMithraAccountData) newData;
+			if (!isCodeNull() ? !getCode().equals(other.getCode()) : !other.isCodeNull())
+			{
+				return true;
+			}
+
+			if (!isPnlGroupIdNull() ? !getPnlGroupId().equals(other.getPnlGroupId()) : !other.isPnlGroupIdNull())
+			{
+				return true;
+			}
+
+			if (!isTrialIdNull() ? !getTrialId().equals(other.getTrialId()) : !other.isTrialIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TamsMithraAccountDataOnHeap copy = new TamsMithraAccountDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TamsMithraAccountDataOnHeap copy = new TamsMithraAccountDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountNumber: "+"'"+getAccountNumber()+"'"+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TamsMithraAccountData otherData = (TamsMithraAccountData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TamsMithraAccountData otherData = (TamsMithraAccountData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsMithraAccountData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TamsMithraAccountFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TamsMithraAccountFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsMithraAccountData";
+		}
+	}
+
+	public class TamsMithraAccountDataOffHeap extends MithraOffHeapDataObject implements TamsMithraAccountData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TamsMithraAccountDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 8);
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 32);
+			this.zSetTimestamp(_storage, value, 40);
+		}
+
+		public TamsMithraAccountDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccountNumberNull()
+		{
+			return zIsStringNull(_storage, 4);
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 8);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isCodeNull()
+		{
+			return zIsStringNull(_storage, 24);
+		}
+
+		public boolean isPnlGroupIdNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public boolean isTrialIdNull()
+		{
+			return zIsStringNull(_storage, 48);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAccountNumber());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TamsMithraAccountFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getCode());
+			out.writeObject(this.getPnlGroupId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TamsMithraAccountFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getTrialId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getAccountNumber()
+		{
+			return zGetString(_storage, 4);
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return zGetInteger(_storage, 4);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			zSetString(_storage, value, 4);
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 8);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 8);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 8);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCode()
+		{
+			return zGetString(_storage, 24);
+		}
+
+		public int zGetCodeAsInt()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setCode(String value)
+		{
+			zSetString(_storage, value, 24);
+		}
+
+		public void setCodeNull()
+		{
+			this.setCode(null);
+		}
+
+		public String getPnlGroupId()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetPnlGroupIdAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setPnlGroupId(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setPnlGroupIdNull()
+		{
+			this.setPnlGroupId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTrialId()
+		{
+			return zGetString(_storage, 48);
+		}
+
+		public int zGetTrialIdAsInt()
+		{
+			return zGetInteger(_storage, 48);
+		}
+
+		public void setTrialId(String value)
+		{
+			zSetString(_storage, value, 48);
+		}
+
+		public void setTrialIdNull()
+		{
+			this.setTrialId(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TamsMithraAccountDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountNumber = this.getAccountNumber();
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.code = this.getCode();
+			copy.pnlGroupId = this.getPnlGroupId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.trialId = this.getTrialId();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 4);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 8);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetString(_storage, (String)in.readObject(), 24);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetString(_storage, (String)in.readObject(), 48);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TamsMithraAccountDataOffHeap)
+			{
+				final TamsMithraAccountDataOffHeap otherData = (TamsMithraAccountDataOffHeap) other;
+				if (this.zGetInteger(_storage, 4) != otherData.zGetInteger(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TamsMithraAccountData otherData = (TamsMithraAccountData) other;
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(otherData.getAccountNumber()) : !otherData.isAccountNumberNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.getAccountNumber());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TamsMithraAccountFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TamsMithraAccountFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 4);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 8);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getTrial()
+		{
+			return null;
+		}
+
+		public void setTrial(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TamsMithraAccountData tamsMithraAccountData = (TamsMithraAccountData) newData;
+			this.setBusinessDateFrom(tamsMithraAccountData.getBusinessDateFrom());
+			this.setBusinessDateTo(tamsMithraAccountData.getBusinessDateTo());
+			this.setCode(tamsMithraAccountData.getCode());
+			this.setPnlGroupId(tamsMithraAccountData.getPnlGroupId());
+			this.setProcessingDateFrom(tamsMithraAccountData.getProcessingDateFrom());
+			this.setProcessingDateTo(tamsMithraAccountData.getProcessingDateTo());
+			this.setTrialId(tamsMithraAccountData.getTrialId());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TamsMithraAccountData other = (TamsMithraAccountData) newData;
+			if (!isCodeNull() ? !getCode().equals(other.getCode()) : !other.isCodeNull())
+			{
+				return true;
+			}
+
+			if (!isPnlGroupIdNull() ? !getPnlGroupId().equals(other.getPnlGroupId()) : !other.isPnlGroupIdNull())
+			{
+				return true;
+			}
+
+			if (!isTrialIdNull() ? !getTrialId().equals(other.getTrialId()) : !other.isTrialIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TamsMithraAccountDataOnHeap copy = new TamsMithraAccountDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TamsMithraAccountDataOnHeap copy = new TamsMithraAccountDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountNumber: "+"'"+getAccountNumber()+"'"+ " / ";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TamsMithraAccountData otherData = (TamsMithraAccountData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TamsMithraAccountData otherData = (TamsMithraAccountData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsMithraAccountData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TamsMithraAccountFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TamsMithraAccountFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsMithraAccountData";
+		}
+	}
+}
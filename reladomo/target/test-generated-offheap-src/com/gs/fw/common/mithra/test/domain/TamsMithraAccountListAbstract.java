@@ -0,0 +1,136 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrial;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialAbstract;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialData;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialFinder;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TamsMithraAccountListAbstract extends DelegatingList<TamsMithraAccount> implements MithraList<TamsMithraAccount>
+{
+	public TamsMithraAccountListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TamsMithraAccountListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TamsMithraAccountListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TamsMithraAccountListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public TamsMithraAccount[] elements()
+	{
+		TamsMithraAccount[] result = new TamsMithraAccount[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TamsMithraAccountList intersection(TamsMithraAccountList another)
+	{
+		return (TamsMithraAccountList)super.intersection(another);
+	}
+
+	public TamsMithraAccount getTamsMithraAccountAt(int index)
+	{
+		return (TamsMithraAccount)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.trialId = TestTamsMithraTrial.trialId</pre>
+	* @return The trial
+	*/
+	public TestTamsMithraTrialList getTrials()
+	{
+		return (TestTamsMithraTrialList) this.zGetDelegated().resolveRelationship(this, TamsMithraAccountFinder.trial());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TamsMithraAccountArbsClassification.accountId = this.accountNumber and
+	TamsMithraAccountArbsClassification.classificationId = TamsMithraArbsClassification.id and
+	TamsMithraAccountArbsClassification.businessDate = this.businessDate and
+	TamsMithraArbsClassification.typeAsString = { type }</pre>
+	* @return The arbs classification by type
+	*/
+	public TamsMithraArbsClassificationList getArbsClassificationByTypes(String type)
+	{
+		return (TamsMithraArbsClassificationList) this.zGetDelegated().resolveRelationship(this, TamsMithraAccountFinder.arbsClassificationByType(type));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TamsMithraAccountFinder.getMithraObjectPortal();
+	}
+
+	public TamsMithraAccountList getNonPersistentCopy()
+	{
+		TamsMithraAccountList result = new TamsMithraAccountList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TamsMithraAccountList asAdhoc()
+	{
+		return (TamsMithraAccountList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TamsMithraAccount> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
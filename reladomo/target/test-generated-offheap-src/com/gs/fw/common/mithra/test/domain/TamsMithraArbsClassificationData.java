@@ -0,0 +1,829 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TamsMithraArbsClassificationData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 32;
+	boolean isIdNull();
+	int getId();
+	void setId(int value);
+	void setIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isTypeAsStringNull();
+	String getTypeAsString();
+	void setTypeAsString(String value);
+	void setTypeAsStringNull();
+	int zGetTypeAsStringAsInt();
+	boolean isValueNull();
+	String getValue();
+	void setValue(String value);
+	void setValueNull();
+	int zGetValueAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TamsMithraArbsClassificationDataOnHeap implements TamsMithraArbsClassificationData
+	{
+		private byte _dataVersion;
+		private int id;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String typeAsString;
+		private String value;
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isTypeAsStringNull()
+		{
+			return this.getTypeAsString() == null;
+		}
+
+		public boolean isValueNull()
+		{
+			return this.getValue() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.id);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TamsMithraArbsClassificationFinder.processingDate().getInfinityDate());
+			out.writeObject(this.typeAsString);
+			out.writeObject(this.value);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public int getId()
+		{
+			return this.id;
+		}
+
+		public void setId(int value)
+		{
+			this.id = value;
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TamsMithraArbsClassificationFinder.isFullCache(), TamsMithraArbsClassificationFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TamsMithraArbsClassificationFinder.isFullCache(), TamsMithraArbsClassificationFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTypeAsString()
+		{
+			return this.typeAsString;
+		}
+
+		public int zGetTypeAsStringAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(typeAsString);
+		}
+
+		public void setTypeAsString(String value)
+		{
+			this.typeAsString = StringPool.getInstance().getOrAddToCache(value, TamsMithraArbsClassificationFinder.isFullCache());
+		}
+
+		public void setTypeAsStringNull()
+		{
+			this.setTypeAsString(null);
+		}
+
+		public String getValue()
+		{
+			return this.value;
+		}
+
+		public int zGetValueAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(value);
+		}
+
+		public void setValue(String value)
+		{
+			this.value = StringPool.getInstance().getOrAddToCache(value, TamsMithraArbsClassificationFinder.isFullCache());
+		}
+
+		public void setValueNull()
+		{
+			this.setValue(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TamsMithraArbsClassificationDataOnHeap copy, boolean withRelationships)
+		{
+			copy.id = this.id;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.typeAsString = this.typeAsString;
+			copy.value = this.value;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.id = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsMithraArbsClassificationFinder.isFullCache(), TamsMithraArbsClassificationFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsMithraArbsClassificationFinder.processingDate().getInfinityDate()), TamsMithraArbsClassificationFinder.isFullCache(), TamsMithraArbsClassificationFinder.isOffHeap());
+			this.typeAsString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsMithraArbsClassificationFinder.isFullCache());
+			this.value = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TamsMithraArbsClassificationFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TamsMithraArbsClassificationData otherData = (TamsMithraArbsClassificationData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.id);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TamsMithraArbsClassificationFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.id = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TamsMithraArbsClassificationFinder.isFullCache(), TamsMithraArbsClassificationFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TamsMithraArbsClassificationFinder.processingDate().getInfinityDate()), TamsMithraArbsClassificationFinder.isFullCache(), TamsMithraArbsClassificationFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TamsMithraArbsClassificationDataOffHeap data = new TamsMithraArbsClassificationDataOffHeap();
+			data.setId(this.getId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setTypeAsString(this.getTypeAsString());
+			data.setValue(this.getValue());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TamsMithraArbsClassificationData tamsMithraArbsClassificationData = (TamsMithraArbsClassificationData) newData;
+			this.setProcessingDateFrom(tamsMithraArbsClassificationData.getProcessingDateFrom());
+			this.setProcessingDateTo(tamsMithraArbsClassificationData.getProcessingDateTo());
+			this.setTypeAsString(tamsMithraArbsClassificationData.getTypeAsString());
+			this.setValue(tamsMithraArbsClassificationData.getValue());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TamsMithraArbsClassificationData other = (TamsMithraArbsClassificationData) newData;
+			if (!isTypeAsStringNull() ? !getTypeAsString().equals(other.getTypeAsString()) : !other.isTypeAsStringNull())
+			{
+				return true;
+			}
+
+			if (!isValueNull() ? !getValue().equals(other.getValue()) : !other.isValueNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TamsMithraArbsClassificationDataOnHeap copy = new TamsMithraArbsClassificationDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TamsMithraArbsClassificationDataOnHeap copy = new TamsMithraArbsClassificationDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TamsMithraArbsClassificationData otherData = (TamsMithraArbsClassificationData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TamsMithraArbsClassificationData otherData = (TamsMithraArbsClassificationData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsMithraArbsClassificationData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TamsMithraArbsClassificationFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TamsMithraArbsClassificationFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsMithraArbsClassificationData";
+		}
+	}
+
+	public class TamsMithraArbsClassificationDataOffHeap extends MithraOffHeapDataObject implements TamsMithraArbsClassificationData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TamsMithraArbsClassificationDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 8);
+			this.zSetTimestamp(_storage, value, 16);
+		}
+
+		public TamsMithraArbsClassificationDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 8);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isTypeAsStringNull()
+		{
+			return zIsStringNull(_storage, 24);
+		}
+
+		public boolean isValueNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TamsMithraArbsClassificationFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getTypeAsString());
+			out.writeObject(this.getValue());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public int getId()
+		{
+			return zGetInteger(_storage, 4);
+		}
+
+		public void setId(int value)
+		{
+			zSetInteger(_storage, value, 4, -1, -1);
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 8);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 8);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 8);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTypeAsString()
+		{
+			return zGetString(_storage, 24);
+		}
+
+		public int zGetTypeAsStringAsInt()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setTypeAsString(String value)
+		{
+			zSetString(_storage, value, 24);
+		}
+
+		public void setTypeAsStringNull()
+		{
+			this.setTypeAsString(null);
+		}
+
+		public String getValue()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetValueAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setValue(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setValueNull()
+		{
+			this.setValue(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TamsMithraArbsClassificationDataOnHeap copy, boolean withRelationships)
+		{
+			copy.id = this.getId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.typeAsString = this.getTypeAsString();
+			copy.value = this.getValue();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 4, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 8);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetString(_storage, (String)in.readObject(), 24);
+			zSetString(_storage, (String)in.readObject(), 28);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TamsMithraArbsClassificationDataOffHeap)
+			{
+				final TamsMithraArbsClassificationDataOffHeap otherData = (TamsMithraArbsClassificationDataOffHeap) other;
+				if (this.zGetInteger(_storage, 4) != otherData.zGetInteger(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TamsMithraArbsClassificationData otherData = (TamsMithraArbsClassificationData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TamsMithraArbsClassificationFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 4, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 8);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TamsMithraArbsClassificationData tamsMithraArbsClassificationData = (TamsMithraArbsClassificationData) newData;
+			this.setProcessingDateFrom(tamsMithraArbsClassificationData.getProcessingDateFrom());
+			this.setProcessingDateTo(tamsMithraArbsClassificationData.getProcessingDateTo());
+			this.setTypeAsString(tamsMithraArbsClassificationData.getTypeAsString());
+			this.setValue(tamsMithraArbsClassificationData.getValue());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TamsMithraArbsClassificationData other = (TamsMithraArbsClassificationData) newData;
+			if (!isTypeAsStringNull() ? !getTypeAsString().equals(other.getTypeAsString()) : !other.isTypeAsStringNull())
+			{
+				return true;
+			}
+
+			if (!isValueNull() ? !getValue().equals(other.getValue()) : !other.isValueNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TamsMithraArbsClassificationDataOnHeap copy = new TamsMithraArbsClassificationDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TamsMithraArbsClassificationDataOnHeap copy = new TamsMithraArbsClassificationDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TamsMithraArbsClassificationData otherData = (TamsMithraArbsClassificationData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TamsMithraArbsClassificationData otherData = (TamsMithraArbsClassificationData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsMithraArbsClassificationData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TamsMithraArbsClassificationFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TamsMithraArbsClassificationFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsMithraArbsClassificationData";
+		}
+	}
+}
@@ -0,0 +1,358 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TeamAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Team.class.getName());
+	public TeamAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Team getDetachedCopy() throws MithraBusinessException
+	{
+		return (Team) super.getDetachedCopy();
+	}
+
+	public Team getNonPersistentCopy() throws MithraBusinessException
+	{
+		Team result = (Team) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Team copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Team) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Team zFindOriginal()
+	{
+		TeamData data = (TeamData) this.currentData;
+		Operation op;
+		op = TeamFinder.teamId().eq(data.getTeamId());
+		op = op.and(TeamFinder.sourceId().eq(data.getSourceId()));
+		return TeamFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TeamData();
+	}
+
+	protected void zSetFromTeamData( TeamData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTeamData( TeamData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDivisionIdNull()
+	{
+		return ((TeamData) this.zSynchronizedGetData()).isDivisionIdNull();
+	}
+
+	public int getDivisionId()
+	{
+		TeamData data = (TeamData) this.zSynchronizedGetData();
+		if (data.isDivisionIdNull()) MithraNullPrimitiveException.throwNew("divisionId", data);
+		return data.getDivisionId();
+	}
+
+	public void setDivisionId(int newValue)
+	{
+		zSetInteger(TeamFinder.divisionId(), newValue, false, false ,true);
+	}
+
+	public boolean isNameNull()
+	{
+		return ((TeamData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		TeamData data = (TeamData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 20: " + newValue);
+		zSetString(TeamFinder.name(), newValue, false, false );
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return ((TeamData) this.zSynchronizedGetData()).isSourceIdNull();
+	}
+
+	public String getSourceId()
+	{
+		TeamData data = (TeamData) this.zSynchronizedGetData();
+		return data.getSourceId();
+	}
+
+	public void setSourceId(String newValue)
+	{
+		zSetString(TeamFinder.sourceId(), newValue, false, false );
+	}
+
+	public boolean isTeamIdNull()
+	{
+		return ((TeamData) this.zSynchronizedGetData()).isTeamIdNull();
+	}
+
+	public int getTeamId()
+	{
+		TeamData data = (TeamData) this.zSynchronizedGetData();
+		return data.getTeamId();
+	}
+
+	public void setTeamId(int newValue)
+	{
+		zSetInteger(TeamFinder.teamId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, TeamFinder.divisionId(), false);
+	}
+
+	public void setDivisionIdNull()
+	{
+		zNullify(TeamFinder.divisionId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TeamData _newData = (TeamData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TeamData _newData = (TeamData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TeamData _newData = (TeamData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Player.teamId = this.teamId</pre>
+	* @see Player#getTeam() reverse relationship Player.getTeam()
+	* @return players
+	*/
+	public PlayerList getPlayers()
+	{
+		PlayerList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TeamData _data = (TeamData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TeamFinder.players().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TeamFinder.players().zGetRelationshipMultiExtractor(), this);
+					_result = new PlayerList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (PlayerList) _data.getPlayers();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TeamFinder.players().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new PlayerList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setPlayers(PlayerList players)
+	{
+		PlayerList _players = (PlayerList) players;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TeamData _data = (TeamData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setPlayers(_players);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Team zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Team original = (Team) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TeamFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TeamFinder.getMithraObjectPortal();
+	}
+
+	public Team getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TeamFinder.divisionId(), false);
+		changed |= zUpdateString(behavior, data, newData, TeamFinder.name(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TeamFinder.sourceId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TeamFinder.teamId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TeamAbstract result = (TeamAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,826 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TeamFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("sourceId",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Team";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Team";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Team");
+	private static final TeamSingleFinder<Team, Object, Team> finder = new TeamSingleFinder<Team, Object, Team>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TeamFinder.TeamRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("teamId");
+		finderMethodMap.addNormalAttributeName("divisionId");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addRelationshipName("players");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = TeamFinder.teamId().constructEqualityMapper(PlayerFinder.teamId());
+			result[1] = PlayerFinder.teamId().constructEqualityMapper(TeamFinder.teamId());
+			result[2] = TeamFinder.sourceId().constructEqualityMapper(PlayerFinder.sourceId());
+			result[3] = PlayerFinder.sourceId().constructEqualityMapper(TeamFinder.sourceId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return TeamFinder.zSourceAttributeType;
+	}
+
+	public static Team findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Team findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TeamList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TeamList) finder.findMany(operation);
+	}
+
+	public static TeamList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TeamList) finder.findManyBypassCache(operation);
+	}
+
+	private static Team findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Team) FinderUtils.findOne(found);
+	}
+
+	public static Team findByPrimaryKey(int teamId, String sourceId)
+	{
+		return finder.findByPrimaryKey(teamId, sourceId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TeamData _castedTargetData = (TeamData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getTeamId() && _bean.getO1AsString().equals(_castedTargetData.getSourceId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static Team zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Team) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TeamRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Team, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return TeamFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> teamId;
+		private IntegerAttribute<ParentOwnerType> divisionId;
+		private StringAttribute<ParentOwnerType> name;
+		private TeamPlayersFinderSubclass<ParentOwnerType> players;
+		private StringAttribute<ParentOwnerType> sourceId;
+		public TeamRelatedFinder()
+		{
+			super();
+		}
+
+		public TeamRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TeamFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TeamFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TeamFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TeamFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.teamId();
+			attributes[1] = this.divisionId();
+			attributes[2] = this.name();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.players());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Team findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TeamFinder.findOne(operation, false);
+		}
+
+		public Team findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TeamFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Team> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TeamList((Operation) operation);
+		}
+
+		public MithraList<? extends Team> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TeamList result = (TeamList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Team> constructEmptyList()
+		{
+			return new TeamList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1927879484;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return TeamFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> teamId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.teamId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TEAM_ID","","teamId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TeamFinder.teamId(), this.mapper, this.zGetValueSelector());
+				this.teamId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> divisionId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.divisionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("DIV_ID","","divisionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TeamFinder.divisionId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Division", "teams");
+				this.divisionId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(TeamFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> sourceId()
+		{
+			StringAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(TeamFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public PlayerFinder.PlayerCollectionFinderForRelatedClasses<ParentOwnerType, PlayerList, Team> players()
+		{
+			TeamPlayersFinderSubclass<ParentOwnerType> result = this.players;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TeamFinder.zGetTeamPlayersReverseMapper());
+				newMapper.setToMany(true);
+				result = new TeamPlayersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.players = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return TeamFinder.sourceId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TeamFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TeamFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TeamCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TeamRelatedFinder<ParentOwnerType, ReturnType, TeamList, OwnerType>
+	{
+		public TeamCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TeamCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TeamCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TeamCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TeamSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TeamRelatedFinder<ParentOwnerType, ReturnType, TeamList, OwnerType>
+	implements ToOneFinder
+	{
+		public TeamSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TeamSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Team other)
+		{
+			return this.teamId().eq(other.getTeamId())
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Team findByPrimaryKey(int teamId, String sourceId)
+		{
+			Team _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (sourceId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(teamId);
+				_bean.setO1(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Team) _related;
+			if (_related == null)
+			{
+				_op = this.teamId().eq(teamId).and(this.sourceId().eq(sourceId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TeamSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TeamSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TeamSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper playersReverseMapper = null;
+	public static Mapper zGetTeamPlayersReverseMapper()
+	{
+		if (playersReverseMapper == null)
+		{
+			playersReverseMapper = zConstructTeamPlayersReverseMapper();
+		}
+
+		return playersReverseMapper;
+	}
+
+	private static Mapper playersMapper = null;
+	public static Mapper zGetTeamPlayersMapper()
+	{
+		if (playersMapper == null)
+		{
+			playersMapper = zConstructTeamPlayersMapper();
+		}
+
+		return playersMapper;
+	}
+
+	private static Mapper playersPureReverseMapper = null;
+	public static Mapper zGetTeamPlayersPureReverseMapper()
+	{
+		if (playersPureReverseMapper == null)
+		{
+			playersPureReverseMapper = zConstructTeamPlayersPureReverseMapper();
+		}
+
+		return playersPureReverseMapper;
+	}
+
+	private static Mapper zConstructTeamPlayersPureReverseMapper()
+	{
+		InternalList playersMapperMapperList = new InternalList(2);
+		playersMapperMapperList.add(TeamFinder.zGetConstantJoin(0));
+		playersMapperMapperList.add(TeamFinder.zGetConstantJoin(2));
+		Mapper playersMapper = new MultiEqualityMapper(playersMapperMapperList);
+		playersMapper.setName("players");
+		return playersMapper;
+	}
+
+	private static Mapper zConstructTeamPlayersReverseMapper()
+	{
+		InternalList playersMapperMapperList = new InternalList(2);
+		playersMapperMapperList.add(TeamFinder.zGetConstantJoin(0));
+		playersMapperMapperList.add(TeamFinder.zGetConstantJoin(2));
+		Mapper playersMapper = new MultiEqualityMapper(playersMapperMapperList);
+		playersMapper.setName("players");
+		return playersMapper;
+	}
+
+	private static Mapper zConstructTeamPlayersMapper()
+	{
+		InternalList playersMapperMapperList = new InternalList(2);
+		playersMapperMapperList.add(TeamFinder.zGetConstantJoin(1));
+		playersMapperMapperList.add(TeamFinder.zGetConstantJoin(3));
+		Mapper playersMapper = new MultiEqualityMapper(playersMapperMapperList);
+		playersMapper.setName("team");
+		return playersMapper;
+	}
+
+	/** maps to TEAM.TEAM_ID **/
+	public static IntegerAttribute<Team> teamId()
+	{
+		return finder.teamId();
+	}
+
+	/** maps to TEAM.DIV_ID **/
+	public static IntegerAttribute<Team> divisionId()
+	{
+		return finder.divisionId();
+	}
+
+	/** maps to TEAM."NAME" **/
+	public static StringAttribute<Team> name()
+	{
+		return finder.name();
+	}
+
+	public static StringAttribute<Team> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	public static PlayerFinder.PlayerCollectionFinderForRelatedClasses<Team, PlayerList, Team> players()
+	{
+		return finder.players();
+	}
+
+	public static class TeamPlayersFinderSubclass<ParentOwnerType> extends PlayerFinder.PlayerCollectionFinderForRelatedClasses<ParentOwnerType, PlayerList, Team>
+	{
+		public TeamPlayersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "players";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				PlayerFinder.sourceId(),
+				PlayerFinder.teamId()).withExtractors(
+				TeamFinder.sourceId(),
+				TeamFinder.teamId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TeamPlayersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PlayerList plainValueOf(Team _obj)
+		{
+			return _obj.getPlayers();
+		}
+
+		protected PlayerList plainListValueOf(Object _obj)
+		{
+			return ((TeamList)_obj).getPlayers();
+		}
+	}
+
+	public static Operation eq(Team other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(teamId());
+	}
+
+	public static TeamSingleFinder<Team, Object, Team> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			teamId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			teamId()
+			, teamId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			divisionId()
+			, sourceId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			DivisionFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			DivisionFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Team");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String sourceId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(sourceId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> sourceIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceIdSet, listener);
+	}
+}
@@ -0,0 +1,161 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TeamListAbstract extends DelegatingList<Team> implements MithraTransactionalList<Team>
+{
+	public TeamListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TeamListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TeamListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TeamListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Team[] elements()
+	{
+		Team[] result = new Team[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TeamList intersection(TeamList another)
+	{
+		return (TeamList)super.intersection(another);
+	}
+
+	public Team getTeamAt(int index)
+	{
+		return (Team)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Player.teamId = this.teamId</pre>
+	* @see Player#getTeam() reverse relationship Player.getTeam()
+	* @return players
+	*/
+	public PlayerList getPlayers()
+	{
+		return (PlayerList) this.zGetDelegated().resolveRelationship(this, TeamFinder.players());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TeamFinder.getMithraObjectPortal();
+	}
+
+	public TeamList getNonPersistentCopy()
+	{
+		TeamList result = new TeamList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TeamList asAdhoc()
+	{
+		return (TeamList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Team> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TeamList merge(MithraTransactionalList<Team> incoming, TopLevelMergeOptions<Team> mergeOptions)
+	{
+		return (TeamList) super.merge(incoming, mergeOptions);
+	}
+
+	public TeamList getDetachedCopy()
+	{
+		TeamList result = new TeamList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setTeamId(int newValue)
+	{
+		zSetInteger(TeamFinder.teamId(), newValue);
+	}
+
+	public void setDivisionId(int newValue)
+	{
+		zSetInteger(TeamFinder.divisionId(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(TeamFinder.name(), newValue);
+	}
+
+	public void setSourceId(String newValue)
+	{
+		zSetString(TeamFinder.sourceId(), newValue);
+	}
+
+	public void setDivisionIdNull()
+	{
+		zSetAttributeNull(TeamFinder.divisionId());
+	}
+}
@@ -0,0 +1,44 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/superclass/Abstract.jsp
+public abstract class TestAbstractNoPkAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl
+{
+	//add getters for all attributes
+	public abstract boolean isCommonValueNull();
+	public abstract String getCommonValue();
+	public abstract void setCommonValue(String commonValue);
+	public abstract boolean isProcessingDateFromNull();
+	public abstract Timestamp getProcessingDateFrom();
+	public abstract void setProcessingDateFrom(Timestamp processingDateFrom);
+	public abstract boolean isProcessingDateToNull();
+	public abstract Timestamp getProcessingDateTo();
+	public abstract void setProcessingDateTo(Timestamp processingDateTo);
+	public abstract Timestamp getProcessingDate();
+}
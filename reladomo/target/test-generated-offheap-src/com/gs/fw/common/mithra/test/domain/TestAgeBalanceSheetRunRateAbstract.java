@@ -0,0 +1,616 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestAgeBalanceSheetRunRateAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericNonAuditedTemporalDirector(
+		TestAgeBalanceSheetRunRateFinder.businessDate()
+	, TestAgeBalanceSheetRunRateFinder.zGetDoubleAttributes(),TestAgeBalanceSheetRunRateFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestAgeBalanceSheetRunRate.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestAgeBalanceSheetRunRateAbstract(Timestamp businessDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestAgeBalanceSheetRunRateFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestAgeBalanceSheetRunRateData zSynchronizedGetData()
+	{
+		return (TestAgeBalanceSheetRunRateData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestAgeBalanceSheetRunRateFinder.businessDate().dataMatches(current, this.businessDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestAgeBalanceSheetRunRate zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestAgeBalanceSheetRunRate original = (TestAgeBalanceSheetRunRate) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public void inactivateForArchiving(Timestamp processingDateTo, Timestamp businessDateTo) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("inactivateForArchiving is only supported for dated objects with a processing date");
+	}
+
+	public TestAgeBalanceSheetRunRate copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestAgeBalanceSheetRunRate) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestAgeBalanceSheetRunRate copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestAgeBalanceSheetRunRate) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			true);
+	}
+
+	public TestAgeBalanceSheetRunRate getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		TestAgeBalanceSheetRunRateAbstract result = (TestAgeBalanceSheetRunRateAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestAgeBalanceSheetRunRate ) result;
+	}
+
+	public TestAgeBalanceSheetRunRate zFindOriginal()
+	{
+		TestAgeBalanceSheetRunRateData data = (TestAgeBalanceSheetRunRateData) this.currentData;
+		Operation op;
+		op = TestAgeBalanceSheetRunRateFinder.tradingdeskLevelTypeId().eq(data.getTradingdeskLevelTypeId());
+		op = op.and(TestAgeBalanceSheetRunRateFinder.tradingDeskorDeskHeadId().eq(data.getTradingDeskorDeskHeadId()));
+		op = op.and(TestAgeBalanceSheetRunRateFinder.businessDate().eq(this.getBusinessDate()));
+		return TestAgeBalanceSheetRunRateFinder.findOne(op);
+	}
+
+	public TestAgeBalanceSheetRunRate getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		TestAgeBalanceSheetRunRateAbstract result = (TestAgeBalanceSheetRunRateAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestAgeBalanceSheetRunRate ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestAgeBalanceSheetRunRate copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestAgeBalanceSheetRunRate) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestAgeBalanceSheetRunRate copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestAgeBalanceSheetRunRate) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestAgeBalanceSheetRunRateData data = (TestAgeBalanceSheetRunRateData) this.currentData;
+			Operation op = TestAgeBalanceSheetRunRateFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestAgeBalanceSheetRunRateFinder.tradingDeskorDeskHeadId().eq(data.getTradingDeskorDeskHeadId()));
+			op = op.and(TestAgeBalanceSheetRunRateFinder.tradingdeskLevelTypeId().eq(data.getTradingdeskLevelTypeId()));
+			return TestAgeBalanceSheetRunRateFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestAgeBalanceSheetRunRateData data = (TestAgeBalanceSheetRunRateData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestAgeBalanceSheetRunRateFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestAgeBalanceSheetRunRateData data = (TestAgeBalanceSheetRunRateData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isPriceNull()
+	{
+		return this.zSynchronizedGetData().isPriceNull();
+	}
+
+	public boolean isTradingDeskorDeskHeadIdNull()
+	{
+		return this.zSynchronizedGetData().isTradingDeskorDeskHeadIdNull();
+	}
+
+	public boolean isTradingdeskLevelTypeIdNull()
+	{
+		return this.zSynchronizedGetData().isTradingdeskLevelTypeIdNull();
+	}
+
+	public boolean isValueNull()
+	{
+		return this.zSynchronizedGetData().isValueNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAgeBalanceSheetRunRateFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAgeBalanceSheetRunRateFinder.businessDateTo(), newValue, false );
+	}
+
+	public double getPrice()
+	{
+		TestAgeBalanceSheetRunRateData data = this.zSynchronizedGetData();
+		if (data.isPriceNull()) MithraNullPrimitiveException.throwNew("price", data);
+		return data.getPrice();
+	}
+
+	public void setPrice(double newValue)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateFinder.price(), newValue, false ,true);
+	}
+
+	public void setPriceUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateFinder.price(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementPrice(double increment)
+	{
+		zIncrement(increment, TestAgeBalanceSheetRunRateFinder.price(), false);
+	}
+
+	public void incrementPriceUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, TestAgeBalanceSheetRunRateFinder.price(), false);
+	}
+
+	public int getTradingDeskorDeskHeadId()
+	{
+		return this.zSynchronizedGetData().getTradingDeskorDeskHeadId();
+	}
+
+	public void setTradingDeskorDeskHeadId(int newValue)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateFinder.tradingDeskorDeskHeadId(), newValue, true ,false);
+	}
+
+	public void setTradingDeskorDeskHeadIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateFinder.tradingDeskorDeskHeadId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getTradingdeskLevelTypeId()
+	{
+		return this.zSynchronizedGetData().getTradingdeskLevelTypeId();
+	}
+
+	public void setTradingdeskLevelTypeId(int newValue)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateFinder.tradingdeskLevelTypeId(), newValue, true ,false);
+	}
+
+	public void setTradingdeskLevelTypeIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateFinder.tradingdeskLevelTypeId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public double getValue()
+	{
+		TestAgeBalanceSheetRunRateData data = this.zSynchronizedGetData();
+		if (data.isValueNull()) MithraNullPrimitiveException.throwNew("value", data);
+		return data.getValue();
+	}
+
+	public void setValue(double newValue)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateFinder.value(), newValue, false ,true);
+	}
+
+	public void setValueUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateFinder.value(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementValue(double increment)
+	{
+		zIncrement(increment, TestAgeBalanceSheetRunRateFinder.value(), false);
+	}
+
+	public void incrementValueUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, TestAgeBalanceSheetRunRateFinder.value(), false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestAgeBalanceSheetRunRateFinder.value(), false, mustCheckCurrent);
+		zNullify(behavior, data, TestAgeBalanceSheetRunRateFinder.price(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestAgeBalanceSheetRunRateData data2 = (TestAgeBalanceSheetRunRateData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestAgeBalanceSheetRunRateFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setValueNull()
+	{
+		zNullify(TestAgeBalanceSheetRunRateFinder.value(), false);
+	}
+
+	public void setValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestAgeBalanceSheetRunRateFinder.value(), false, exclusiveUntil);
+	}
+
+	public void setPriceNull()
+	{
+		zNullify(TestAgeBalanceSheetRunRateFinder.price(), false);
+	}
+
+	public void setPriceNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestAgeBalanceSheetRunRateFinder.price(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestAgeBalanceSheetRunRateData _newData = (TestAgeBalanceSheetRunRateData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestAgeBalanceSheetRunRateData _newData = (TestAgeBalanceSheetRunRateData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestAgeBalanceSheetRunRateData _newData = (TestAgeBalanceSheetRunRateData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TestAgeBalanceSheetRunRateFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestAgeBalanceSheetRunRateData.TestAgeBalanceSheetRunRateDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestAgeBalanceSheetRunRateData data = (TestAgeBalanceSheetRunRateData) TestAgeBalanceSheetRunRateFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestAgeBalanceSheetRunRate has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestAgeBalanceSheetRunRateData( TestAgeBalanceSheetRunRateData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestAgeBalanceSheetRunRateData( TestAgeBalanceSheetRunRateData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestAgeBalanceSheetRunRateFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestAgeBalanceSheetRunRateFinder.getMithraObjectPortal();
+	}
+
+	public TestAgeBalanceSheetRunRate getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestAgeBalanceSheetRunRateAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestAgeBalanceSheetRunRateAbstract from = (TestAgeBalanceSheetRunRateAbstract) f;
+		TestAgeBalanceSheetRunRateData newData = from.zSynchronizedGetData();
+		if (from.isPriceNull())
+		{
+			this.setPriceNull();
+		}
+		else
+		{
+			this.setPrice(newData.getPrice());
+		}
+
+		if (from.isValueNull())
+		{
+			this.setValueNull();
+		}
+		else
+		{
+			this.setValue(newData.getValue());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestAgeBalanceSheetRunRateData _newData = (TestAgeBalanceSheetRunRateData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestAgeBalanceSheetRunRateData _newData = (TestAgeBalanceSheetRunRateData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestAgeBalanceSheetRunRateAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestAgeBalanceSheetRunRateAbstract from = (TestAgeBalanceSheetRunRateAbstract)f;
+		TestAgeBalanceSheetRunRateData newData = from.zSynchronizedGetData();
+		if (from.isPriceNull())
+		{
+			this.setPriceNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setPriceUntil(newData.getPrice(), exclusiveUntil);
+		}
+
+		if (from.isValueNull())
+		{
+			this.setValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setValueUntil(newData.getValue(), exclusiveUntil);
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, TestAgeBalanceSheetRunRateFinder.price(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestAgeBalanceSheetRunRateFinder.tradingDeskorDeskHeadId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestAgeBalanceSheetRunRateFinder.tradingdeskLevelTypeId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TestAgeBalanceSheetRunRateFinder.value(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, TestAgeBalanceSheetRunRateFinder.price(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestAgeBalanceSheetRunRateFinder.tradingDeskorDeskHeadId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestAgeBalanceSheetRunRateFinder.tradingdeskLevelTypeId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, TestAgeBalanceSheetRunRateFinder.value(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestAgeBalanceSheetRunRateData data = ((TestAgeBalanceSheetRunRateData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestAgeBalanceSheetRunRateData data = ((TestAgeBalanceSheetRunRateData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestAgeBalanceSheetRunRateData data = ((TestAgeBalanceSheetRunRateData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestAgeBalanceSheetRunRateFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestAgeBalanceSheetRunRateData localData = (TestAgeBalanceSheetRunRateData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,175 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestAgeBalanceSheetRunRateListAbstract extends DelegatingList<TestAgeBalanceSheetRunRate> implements MithraDatedTransactionalList<TestAgeBalanceSheetRunRate>
+{
+	public TestAgeBalanceSheetRunRateListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestAgeBalanceSheetRunRateListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestAgeBalanceSheetRunRateListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestAgeBalanceSheetRunRateListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestAgeBalanceSheetRunRate[] elements()
+	{
+		TestAgeBalanceSheetRunRate[] result = new TestAgeBalanceSheetRunRate[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestAgeBalanceSheetRunRateList intersection(TestAgeBalanceSheetRunRateList another)
+	{
+		return (TestAgeBalanceSheetRunRateList)super.intersection(another);
+	}
+
+	public TestAgeBalanceSheetRunRate getTestAgeBalanceSheetRunRateAt(int index)
+	{
+		return (TestAgeBalanceSheetRunRate)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestAgeBalanceSheetRunRateFinder.getMithraObjectPortal();
+	}
+
+	public TestAgeBalanceSheetRunRateList getNonPersistentCopy()
+	{
+		TestAgeBalanceSheetRunRateList result = new TestAgeBalanceSheetRunRateList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestAgeBalanceSheetRunRateList asAdhoc()
+	{
+		return (TestAgeBalanceSheetRunRateList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestAgeBalanceSheetRunRate> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestAgeBalanceSheetRunRateList merge(MithraTransactionalList<TestAgeBalanceSheetRunRate> incoming, TopLevelMergeOptions<TestAgeBalanceSheetRunRate> mergeOptions)
+	{
+		return (TestAgeBalanceSheetRunRateList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestAgeBalanceSheetRunRateList getDetachedCopy()
+	{
+		TestAgeBalanceSheetRunRateList result = new TestAgeBalanceSheetRunRateList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setTradingdeskLevelTypeId(int newValue)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateFinder.tradingdeskLevelTypeId(), newValue);
+	}
+
+	public void setTradingDeskorDeskHeadId(int newValue)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateFinder.tradingDeskorDeskHeadId(), newValue);
+	}
+
+	public void setValue(double newValue)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateFinder.value(), newValue);
+	}
+
+	public void setPrice(double newValue)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateFinder.price(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAgeBalanceSheetRunRateFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAgeBalanceSheetRunRateFinder.businessDateTo(), newValue);
+	}
+
+	public void setValueNull()
+	{
+		zSetAttributeNull(TestAgeBalanceSheetRunRateFinder.value());
+	}
+
+	public void setPriceNull()
+	{
+		zSetAttributeNull(TestAgeBalanceSheetRunRateFinder.price());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,551 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestAgeBalanceSheetRunRateNullDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "\"VALUE\",PRICE,FROM_Z,THRU_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.\"VALUE\",t0.PRICE,t0.FROM_Z,t0.THRU_Z";
+	private static final String PK_WITH_ALIAS = "t0.DESK_LEVEL_TYPE_ID = ? AND t0.DESK_ID = ?";
+	private static final String PK_INDEX_COLS = "DESK_LEVEL_TYPE_ID,DESK_ID";
+	protected TestAgeBalanceSheetRunRateNullDatabaseObjectAbstract()
+	{
+		super("TestAgeBalanceSheetRunRateNull", "com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRateNullFinder",
+			6, 6,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestAgeBalanceSheetRunRateNullFinder.getFinderInstance();
+	}
+
+	public static TestAgeBalanceSheetRunRateNullData allocateOnHeapData()
+	{
+		return new TestAgeBalanceSheetRunRateNullData.TestAgeBalanceSheetRunRateNullDataOnHeap();
+	}
+
+	public static TestAgeBalanceSheetRunRateNullData allocateOffHeapData()
+	{
+		return new TestAgeBalanceSheetRunRateNullData.TestAgeBalanceSheetRunRateNullDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestAgeBalanceSheetRunRateNullData.TestAgeBalanceSheetRunRateNullDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), TestAgeBalanceSheetRunRateNullFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestAgeBalanceSheetRunRateNullData data = new TestAgeBalanceSheetRunRateNullData.TestAgeBalanceSheetRunRateNullDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), TestAgeBalanceSheetRunRateNullFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestAgeBalanceSheetRunRateNullData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRateNull", TestAgeBalanceSheetRunRateNullFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("TestAgeBalanceSheetRunRateNull"));
+			TestAgeBalanceSheetRunRateNullData.TestAgeBalanceSheetRunRateNullDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(TestAgeBalanceSheetRunRateNullFinder.getPrimaryKeyAttributes(), TestAgeBalanceSheetRunRateNullFinder.getAsOfAttributes(), this, TestAgeBalanceSheetRunRateNullFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(TestAgeBalanceSheetRunRateNullFinder.getPrimaryKeyAttributes(), TestAgeBalanceSheetRunRateNullFinder.getAsOfAttributes(), this, TestAgeBalanceSheetRunRateNullFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(TestAgeBalanceSheetRunRateNullFinder.getPrimaryKeyAttributes(), TestAgeBalanceSheetRunRateNullFinder.getAsOfAttributes(), this, TestAgeBalanceSheetRunRateNullFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(TestAgeBalanceSheetRunRateNullFinder.getPrimaryKeyAttributes(), TestAgeBalanceSheetRunRateNullFinder.getAsOfAttributes(), this, TestAgeBalanceSheetRunRateNullFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(TestAgeBalanceSheetRunRateNullFinder.getPrimaryKeyAttributes(), TestAgeBalanceSheetRunRateNullFinder.getAsOfAttributes(), this, TestAgeBalanceSheetRunRateNullFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestAgeBalanceSheetRunRateNullData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRateNull", TestAgeBalanceSheetRunRateNullFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			TestAgeBalanceSheetRunRateNullData.TestAgeBalanceSheetRunRateNullDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(TestAgeBalanceSheetRunRateNullFinder.getPrimaryKeyAttributes(), TestAgeBalanceSheetRunRateNullFinder.getAsOfAttributes(), this, TestAgeBalanceSheetRunRateNullFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(TestAgeBalanceSheetRunRateNullFinder.getPrimaryKeyAttributes(), TestAgeBalanceSheetRunRateNullFinder.getAsOfAttributes(), this, TestAgeBalanceSheetRunRateNullFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestAgeBalanceSheetRunRateNullFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestAgeBalanceSheetRunRateNullFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TestAgeBalanceSheetRunRateNull.zConfigFullTx();
+		}
+		else
+		{
+			TestAgeBalanceSheetRunRateNull.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestAgeBalanceSheetRunRateNullData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestAgeBalanceSheetRunRateNullData(1, (TestAgeBalanceSheetRunRateNullData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestAgeBalanceSheetRunRateNullPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestAgeBalanceSheetRunRateNullTableName();
+	}
+
+	public String getTestAgeBalanceSheetRunRateNullTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestAgeBalanceSheetRunRateNullData data = (TestAgeBalanceSheetRunRateNullData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTradingdeskLevelTypeId());
+		stm.setInt(pos++, data.getTradingDeskorDeskHeadId());
+		if (data.getBusinessDateTo() != null)
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getBusinessDateTo().getTime() == TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "DESK_LEVEL_TYPE_ID = ? AND DESK_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.DESK_LEVEL_TYPE_ID,t0.DESK_ID,t0.\"VALUE\",t0.PRICE,t0.FROM_Z,t0.THRU_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*6);
+		result.append(databaseAlias).append(".").append("DESK_LEVEL_TYPE_ID");
+		result.append(",").append(databaseAlias).append(".").append("DESK_ID");
+		result.append(",").append(databaseAlias).append(".").append("\"VALUE\"");
+		result.append(",").append(databaseAlias).append(".").append("PRICE");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestAgeBalanceSheetRunRateNullData inflateTestAgeBalanceSheetRunRateNullData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestAgeBalanceSheetRunRateNullData data = inflateTestAgeBalanceSheetRunRateNullPkData(rs, dt);
+		inflateNonPkTestAgeBalanceSheetRunRateNullData(3, data, rs, dt);
+		return data;
+	}
+
+	public TestAgeBalanceSheetRunRateNullData inflateTestAgeBalanceSheetRunRateNullPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestAgeBalanceSheetRunRateNullData _data = new TestAgeBalanceSheetRunRateNullData.TestAgeBalanceSheetRunRateNullDataOnHeap();
+		int _pos = 1;
+		_data.setTradingdeskLevelTypeId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "tradingdeskLevelTypeId");
+		_data.setTradingDeskorDeskHeadId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "tradingDeskorDeskHeadId");
+		return _data;
+	}
+
+	public void inflateNonPkTestAgeBalanceSheetRunRateNullData(int _pos, TestAgeBalanceSheetRunRateNullData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestAgeBalanceSheetRunRateNullData _data = _datax;
+			_data.setValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setValueNull();
+			}
+
+			_data.setPrice(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPriceNull();
+			}
+
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTestAgeBalanceSheetRunRateNullTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "AGE_BALANCESHEET_RUNRATE_NULL";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TestAgeBalanceSheetRunRateNullData data = (TestAgeBalanceSheetRunRateNullData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTradingdeskLevelTypeId());
+		stm.setInt(pos++, data.getTradingDeskorDeskHeadId());
+		if (data.isValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getValue());
+		}
+
+		if (data.isPriceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPrice());
+		}
+
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if (data.isBusinessDateToNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			if (data.getBusinessDateTo().getTime() == TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate().getTime())
+			{
+				conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			}
+
+			dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "DESK_LEVEL_TYPE_ID,DESK_ID,\"VALUE\",PRICE,FROM_Z,THRU_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TestAgeBalanceSheetRunRateNull newObject = new TestAgeBalanceSheetRunRateNull(asOfDates[0]
+		);
+		newObject.zSetFromTestAgeBalanceSheetRunRateNullData((TestAgeBalanceSheetRunRateNullData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new NonAuditedTransactionalDataContainer(tx.getPerPortalTemporalContainer(TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal(),
+			null)
+		,TestAgeBalanceSheetRunRateNullFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		if (((TestAgeBalanceSheetRunRateNullData)data).getBusinessDateTo() == null)
+		{
+			result +="THRU_Z is null";
+		}
+		else 
+		{
+			result +="THRU_Z = ?";
+		}
+
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestAgeBalanceSheetRunRateNullData data = (TestAgeBalanceSheetRunRateNullData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTradingdeskLevelTypeId());
+		stm.setInt(pos++, data.getTradingDeskorDeskHeadId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, TestAgeBalanceSheetRunRateNullFinder.businessDate(),
+			null);
+	}
+}
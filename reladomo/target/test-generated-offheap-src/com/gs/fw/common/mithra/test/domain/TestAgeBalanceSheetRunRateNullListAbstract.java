@@ -0,0 +1,175 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestAgeBalanceSheetRunRateNullListAbstract extends DelegatingList<TestAgeBalanceSheetRunRateNull> implements MithraDatedTransactionalList<TestAgeBalanceSheetRunRateNull>
+{
+	public TestAgeBalanceSheetRunRateNullListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestAgeBalanceSheetRunRateNullListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestAgeBalanceSheetRunRateNullListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestAgeBalanceSheetRunRateNullListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestAgeBalanceSheetRunRateNull[] elements()
+	{
+		TestAgeBalanceSheetRunRateNull[] result = new TestAgeBalanceSheetRunRateNull[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestAgeBalanceSheetRunRateNullList intersection(TestAgeBalanceSheetRunRateNullList another)
+	{
+		return (TestAgeBalanceSheetRunRateNullList)super.intersection(another);
+	}
+
+	public TestAgeBalanceSheetRunRateNull getTestAgeBalanceSheetRunRateNullAt(int index)
+	{
+		return (TestAgeBalanceSheetRunRateNull)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal();
+	}
+
+	public TestAgeBalanceSheetRunRateNullList getNonPersistentCopy()
+	{
+		TestAgeBalanceSheetRunRateNullList result = new TestAgeBalanceSheetRunRateNullList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestAgeBalanceSheetRunRateNullList asAdhoc()
+	{
+		return (TestAgeBalanceSheetRunRateNullList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestAgeBalanceSheetRunRateNull> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestAgeBalanceSheetRunRateNullList merge(MithraTransactionalList<TestAgeBalanceSheetRunRateNull> incoming, TopLevelMergeOptions<TestAgeBalanceSheetRunRateNull> mergeOptions)
+	{
+		return (TestAgeBalanceSheetRunRateNullList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestAgeBalanceSheetRunRateNullList getDetachedCopy()
+	{
+		TestAgeBalanceSheetRunRateNullList result = new TestAgeBalanceSheetRunRateNullList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setTradingdeskLevelTypeId(int newValue)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateNullFinder.tradingdeskLevelTypeId(), newValue);
+	}
+
+	public void setTradingDeskorDeskHeadId(int newValue)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateNullFinder.tradingDeskorDeskHeadId(), newValue);
+	}
+
+	public void setValue(double newValue)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateNullFinder.value(), newValue);
+	}
+
+	public void setPrice(double newValue)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateNullFinder.price(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAgeBalanceSheetRunRateNullFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAgeBalanceSheetRunRateNullFinder.businessDateTo(), newValue);
+	}
+
+	public void setValueNull()
+	{
+		zSetAttributeNull(TestAgeBalanceSheetRunRateNullFinder.value());
+	}
+
+	public void setPriceNull()
+	{
+		zSetAttributeNull(TestAgeBalanceSheetRunRateNullFinder.price());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
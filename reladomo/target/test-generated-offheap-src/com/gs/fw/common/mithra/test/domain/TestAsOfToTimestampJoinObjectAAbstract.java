@@ -0,0 +1,543 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestAsOfToTimestampJoinObjectAAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericNonAuditedTemporalDirector(
+		TestAsOfToTimestampJoinObjectAFinder.businessDate()
+	, TestAsOfToTimestampJoinObjectAFinder.zGetDoubleAttributes(),TestAsOfToTimestampJoinObjectAFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestAsOfToTimestampJoinObjectA.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestAsOfToTimestampJoinObjectAAbstract(Timestamp businessDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestAsOfToTimestampJoinObjectAFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestAsOfToTimestampJoinObjectAData zSynchronizedGetData()
+	{
+		return (TestAsOfToTimestampJoinObjectAData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestAsOfToTimestampJoinObjectAFinder.businessDate().dataMatches(current, this.businessDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestAsOfToTimestampJoinObjectA zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestAsOfToTimestampJoinObjectA original = (TestAsOfToTimestampJoinObjectA) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public void inactivateForArchiving(Timestamp processingDateTo, Timestamp businessDateTo) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("inactivateForArchiving is only supported for dated objects with a processing date");
+	}
+
+	public TestAsOfToTimestampJoinObjectA copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestAsOfToTimestampJoinObjectA) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestAsOfToTimestampJoinObjectA copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestAsOfToTimestampJoinObjectA) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			true);
+	}
+
+	public TestAsOfToTimestampJoinObjectA getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		TestAsOfToTimestampJoinObjectAAbstract result = (TestAsOfToTimestampJoinObjectAAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestAsOfToTimestampJoinObjectA ) result;
+	}
+
+	public TestAsOfToTimestampJoinObjectA zFindOriginal()
+	{
+		TestAsOfToTimestampJoinObjectAData data = (TestAsOfToTimestampJoinObjectAData) this.currentData;
+		Operation op;
+		op = TestAsOfToTimestampJoinObjectAFinder.id().eq(data.getId());
+		op = op.and(TestAsOfToTimestampJoinObjectAFinder.businessDate().eq(this.getBusinessDate()));
+		return TestAsOfToTimestampJoinObjectAFinder.findOne(op);
+	}
+
+	public TestAsOfToTimestampJoinObjectA getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		TestAsOfToTimestampJoinObjectAAbstract result = (TestAsOfToTimestampJoinObjectAAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestAsOfToTimestampJoinObjectA ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestAsOfToTimestampJoinObjectA copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestAsOfToTimestampJoinObjectA) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestAsOfToTimestampJoinObjectA copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestAsOfToTimestampJoinObjectA) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestAsOfToTimestampJoinObjectAData data = (TestAsOfToTimestampJoinObjectAData) this.currentData;
+			Operation op = TestAsOfToTimestampJoinObjectAFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestAsOfToTimestampJoinObjectAFinder.id().eq(data.getId()));
+			return TestAsOfToTimestampJoinObjectAFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestAsOfToTimestampJoinObjectAData data = (TestAsOfToTimestampJoinObjectAData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestAsOfToTimestampJoinObjectAFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestAsOfToTimestampJoinObjectAData data = (TestAsOfToTimestampJoinObjectAData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAsOfToTimestampJoinObjectAFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAsOfToTimestampJoinObjectAFinder.businessDateTo(), newValue, false );
+	}
+
+	public int getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(TestAsOfToTimestampJoinObjectAFinder.id(), newValue, true ,false);
+	}
+
+	public void setIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestAsOfToTimestampJoinObjectAFinder.id(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestAsOfToTimestampJoinObjectAData data2 = (TestAsOfToTimestampJoinObjectAData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestAsOfToTimestampJoinObjectAFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestAsOfToTimestampJoinObjectAData _newData = (TestAsOfToTimestampJoinObjectAData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestAsOfToTimestampJoinObjectAData _newData = (TestAsOfToTimestampJoinObjectAData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestAsOfToTimestampJoinObjectAData _newData = (TestAsOfToTimestampJoinObjectAData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestAsOfToTimestampJoinObjectB.businessDate = this.businessDate and
+	TestAsOfToTimestampJoinObjectB.id = 1</pre>
+	* @return The b
+	*/
+	public TestAsOfToTimestampJoinObjectB getB()
+	{
+		TestAsOfToTimestampJoinObjectB _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestAsOfToTimestampJoinObjectAData _data = (TestAsOfToTimestampJoinObjectAData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestAsOfToTimestampJoinObjectAFinder.b().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestAsOfToTimestampJoinObjectAFinder.b().zGetRelationshipMultiExtractor(), this);
+					_result = TestAsOfToTimestampJoinObjectBFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestAsOfToTimestampJoinObjectB) _data.getB();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestAsOfToTimestampJoinObjectAFinder.b().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestAsOfToTimestampJoinObjectBFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setB(TestAsOfToTimestampJoinObjectB b)
+	{
+		TestAsOfToTimestampJoinObjectB _b = (TestAsOfToTimestampJoinObjectB) b;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestAsOfToTimestampJoinObjectAData _data = (TestAsOfToTimestampJoinObjectAData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setB(_b);
+			if (_b == null)
+			{
+			}
+			else
+			{
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_b == null)
+			{
+			}
+			else
+			{
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return TestAsOfToTimestampJoinObjectAFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestAsOfToTimestampJoinObjectAData.TestAsOfToTimestampJoinObjectADataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestAsOfToTimestampJoinObjectAData data = (TestAsOfToTimestampJoinObjectAData) TestAsOfToTimestampJoinObjectAFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestAsOfToTimestampJoinObjectA has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestAsOfToTimestampJoinObjectAData( TestAsOfToTimestampJoinObjectAData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestAsOfToTimestampJoinObjectAData( TestAsOfToTimestampJoinObjectAData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestAsOfToTimestampJoinObjectAFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestAsOfToTimestampJoinObjectAFinder.getMithraObjectPortal();
+	}
+
+	public TestAsOfToTimestampJoinObjectA getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestAsOfToTimestampJoinObjectAAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestAsOfToTimestampJoinObjectAAbstract from = (TestAsOfToTimestampJoinObjectAAbstract) f;
+		TestAsOfToTimestampJoinObjectAData newData = from.zSynchronizedGetData();
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestAsOfToTimestampJoinObjectAData _newData = (TestAsOfToTimestampJoinObjectAData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestAsOfToTimestampJoinObjectAData _newData = (TestAsOfToTimestampJoinObjectAData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestAsOfToTimestampJoinObjectAAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestAsOfToTimestampJoinObjectAAbstract from = (TestAsOfToTimestampJoinObjectAAbstract)f;
+		TestAsOfToTimestampJoinObjectAData newData = from.zSynchronizedGetData();
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestAsOfToTimestampJoinObjectAFinder.id(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestAsOfToTimestampJoinObjectAFinder.id(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestAsOfToTimestampJoinObjectAData data = ((TestAsOfToTimestampJoinObjectAData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestAsOfToTimestampJoinObjectAData data = ((TestAsOfToTimestampJoinObjectAData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestAsOfToTimestampJoinObjectAData data = ((TestAsOfToTimestampJoinObjectAData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity()), TestAsOfToTimestampJoinObjectAFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestAsOfToTimestampJoinObjectAData localData = (TestAsOfToTimestampJoinObjectAData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,368 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestAsOfToTimestampJoinObjectBAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestAsOfToTimestampJoinObjectB.class.getName());
+	private static final RelationshipHashStrategy fora = new ARhs();
+	private static final class ARhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = TestAsOfToTimestampJoinObjectAFinder.businessDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestAsOfToTimestampJoinObjectBData _castedSrcData = (TestAsOfToTimestampJoinObjectBData) _srcData;
+			TestAsOfToTimestampJoinObjectAData _castedTargetData = (TestAsOfToTimestampJoinObjectAData) _targetData;
+			if (((_castedTargetData.getId() == 2)))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestAsOfToTimestampJoinObjectBData _castedSrcData = (TestAsOfToTimestampJoinObjectBData) _srcData;
+			return HashUtil.hash(2);
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public TestAsOfToTimestampJoinObjectBAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestAsOfToTimestampJoinObjectB getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestAsOfToTimestampJoinObjectB) super.getDetachedCopy();
+	}
+
+	public TestAsOfToTimestampJoinObjectB getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestAsOfToTimestampJoinObjectB result = (TestAsOfToTimestampJoinObjectB) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestAsOfToTimestampJoinObjectB copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestAsOfToTimestampJoinObjectB) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestAsOfToTimestampJoinObjectB zFindOriginal()
+	{
+		TestAsOfToTimestampJoinObjectBData data = (TestAsOfToTimestampJoinObjectBData) this.currentData;
+		Operation op;
+		op = TestAsOfToTimestampJoinObjectBFinder.id().eq(data.getId());
+		return TestAsOfToTimestampJoinObjectBFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestAsOfToTimestampJoinObjectBData();
+	}
+
+	protected void zSetFromTestAsOfToTimestampJoinObjectBData( TestAsOfToTimestampJoinObjectBData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestAsOfToTimestampJoinObjectBData( TestAsOfToTimestampJoinObjectBData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return ((TestAsOfToTimestampJoinObjectBData) this.zSynchronizedGetData()).isBusinessDateNull();
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		TestAsOfToTimestampJoinObjectBData data = (TestAsOfToTimestampJoinObjectBData) this.zSynchronizedGetData();
+		return data.getBusinessDate();
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(TestAsOfToTimestampJoinObjectBFinder.businessDate(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((TestAsOfToTimestampJoinObjectBData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		TestAsOfToTimestampJoinObjectBData data = (TestAsOfToTimestampJoinObjectBData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(TestAsOfToTimestampJoinObjectBFinder.id(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestAsOfToTimestampJoinObjectBData _newData = (TestAsOfToTimestampJoinObjectBData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestAsOfToTimestampJoinObjectBData _newData = (TestAsOfToTimestampJoinObjectBData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestAsOfToTimestampJoinObjectBData _newData = (TestAsOfToTimestampJoinObjectBData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestAsOfToTimestampJoinObjectA.businessDate = this.businessDate and
+	TestAsOfToTimestampJoinObjectA.id = 2</pre>
+	* @return The a
+	*/
+	public TestAsOfToTimestampJoinObjectA getA()
+	{
+		TestAsOfToTimestampJoinObjectA _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestAsOfToTimestampJoinObjectBData _data = (TestAsOfToTimestampJoinObjectBData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isBusinessDateNull())
+			{
+				_portal = TestAsOfToTimestampJoinObjectAFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fora,_data.getBusinessDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (TestAsOfToTimestampJoinObjectA) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(TestAsOfToTimestampJoinObjectBFinder.a().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isBusinessDateNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestAsOfToTimestampJoinObjectBFinder.a().zGetRelationshipMultiExtractor(), this);
+					_result = TestAsOfToTimestampJoinObjectAFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestAsOfToTimestampJoinObjectA) _data.getA();
+			if (_result == null)
+			{
+				if (!_data.isBusinessDateNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(TestAsOfToTimestampJoinObjectBFinder.a().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestAsOfToTimestampJoinObjectAFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setA(TestAsOfToTimestampJoinObjectA a)
+	{
+		TestAsOfToTimestampJoinObjectA _a = (TestAsOfToTimestampJoinObjectA) a;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestAsOfToTimestampJoinObjectBData _data = (TestAsOfToTimestampJoinObjectBData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setA(_a);
+			if (_a == null)
+			{
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setBusinessDate(_a.getBusinessDate());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_a == null)
+			{
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setBusinessDate(
+					_a.getBusinessDate());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TestAsOfToTimestampJoinObjectB zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestAsOfToTimestampJoinObjectB original = (TestAsOfToTimestampJoinObjectB) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestAsOfToTimestampJoinObjectBFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestAsOfToTimestampJoinObjectBFinder.getMithraObjectPortal();
+	}
+
+	public TestAsOfToTimestampJoinObjectB getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, TestAsOfToTimestampJoinObjectBFinder.businessDate(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestAsOfToTimestampJoinObjectBFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestAsOfToTimestampJoinObjectBAbstract result = (TestAsOfToTimestampJoinObjectBAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
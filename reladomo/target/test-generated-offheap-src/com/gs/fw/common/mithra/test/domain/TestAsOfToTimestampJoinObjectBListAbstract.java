@@ -0,0 +1,146 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestAsOfToTimestampJoinObjectBListAbstract extends DelegatingList<TestAsOfToTimestampJoinObjectB> implements MithraTransactionalList<TestAsOfToTimestampJoinObjectB>
+{
+	public TestAsOfToTimestampJoinObjectBListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestAsOfToTimestampJoinObjectBListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestAsOfToTimestampJoinObjectBListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestAsOfToTimestampJoinObjectBListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestAsOfToTimestampJoinObjectB[] elements()
+	{
+		TestAsOfToTimestampJoinObjectB[] result = new TestAsOfToTimestampJoinObjectB[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestAsOfToTimestampJoinObjectBList intersection(TestAsOfToTimestampJoinObjectBList another)
+	{
+		return (TestAsOfToTimestampJoinObjectBList)super.intersection(another);
+	}
+
+	public TestAsOfToTimestampJoinObjectB getTestAsOfToTimestampJoinObjectBAt(int index)
+	{
+		return (TestAsOfToTimestampJoinObjectB)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestAsOfToTimestampJoinObjectA.businessDate = this.businessDate and
+	TestAsOfToTimestampJoinObjectA.id = 2</pre>
+	* @return The a
+	*/
+	public TestAsOfToTimestampJoinObjectAList getAs()
+	{
+		return (TestAsOfToTimestampJoinObjectAList) this.zGetDelegated().resolveRelationship(this, TestAsOfToTimestampJoinObjectBFinder.a());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestAsOfToTimestampJoinObjectBFinder.getMithraObjectPortal();
+	}
+
+	public TestAsOfToTimestampJoinObjectBList getNonPersistentCopy()
+	{
+		TestAsOfToTimestampJoinObjectBList result = new TestAsOfToTimestampJoinObjectBList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestAsOfToTimestampJoinObjectBList asAdhoc()
+	{
+		return (TestAsOfToTimestampJoinObjectBList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestAsOfToTimestampJoinObjectB> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestAsOfToTimestampJoinObjectBList merge(MithraTransactionalList<TestAsOfToTimestampJoinObjectB> incoming, TopLevelMergeOptions<TestAsOfToTimestampJoinObjectB> mergeOptions)
+	{
+		return (TestAsOfToTimestampJoinObjectBList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestAsOfToTimestampJoinObjectBList getDetachedCopy()
+	{
+		TestAsOfToTimestampJoinObjectBList result = new TestAsOfToTimestampJoinObjectBList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(TestAsOfToTimestampJoinObjectBFinder.businessDate(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(TestAsOfToTimestampJoinObjectBFinder.id(), newValue);
+	}
+}
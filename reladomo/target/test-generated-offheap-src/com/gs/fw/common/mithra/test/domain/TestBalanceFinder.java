@@ -0,0 +1,1012 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestBalanceFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestBalance";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestBalance";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestBalance");
+	private static final TestBalanceSingleFinder<TestBalance, Object, TestBalance> finder = new TestBalanceSingleFinder<TestBalance, Object, TestBalance>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestBalanceFinder.TestBalanceRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("positionType");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("tamsAccount");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = TestBalanceFinder.accountId().constructEqualityMapper(TamsAccountFinder.accountNumber());
+			result[1] = TamsAccountFinder.accountNumber().constructEqualityMapper(TestBalanceFinder.accountId());
+			result[2] = TestBalanceFinder.acmapCode().constructEqualityMapper(TamsAccountFinder.deskId());
+			result[3] = TamsAccountFinder.deskId().constructEqualityMapper(TestBalanceFinder.acmapCode());
+			result[4] = TestBalanceFinder.businessDate().constructEqualityMapper(TamsAccountFinder.businessDate());
+			result[5] = TamsAccountFinder.businessDate().constructEqualityMapper(TestBalanceFinder.businessDate());
+			result[6] = TestBalanceFinder.processingDate().constructEqualityMapper(TamsAccountFinder.processingDate());
+			result[7] = TamsAccountFinder.processingDate().constructEqualityMapper(TestBalanceFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return TestBalanceFinder.zSourceAttributeType;
+	}
+
+	public static TestBalance findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestBalance findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestBalanceList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestBalanceList) finder.findMany(operation);
+	}
+
+	public static TestBalanceList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestBalanceList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestBalance findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestBalance) FinderUtils.findOne(found);
+	}
+
+	public static TestBalance findByPrimaryKey(String accountId, int productId, int positionType, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(accountId, productId, positionType, acmapCode, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestBalanceData _castedTargetData = (TestBalanceData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountId()) && _bean.getI1AsInteger() == _castedTargetData.getProductId() && _bean.getI2AsInteger() == _castedTargetData.getPositionType() && _bean.getO2AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return TestBalanceFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TestBalanceFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static TestBalance zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestBalance) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestBalanceRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestBalance, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return TestBalanceFinder.zSourceAttributeType;
+		}
+
+		private StringAttribute<ParentOwnerType> accountId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private IntegerAttribute<ParentOwnerType> positionType;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private TestBalanceTamsAccountFinderSubclass<ParentOwnerType> tamsAccount;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestBalanceRelatedFinder()
+		{
+			super();
+		}
+
+		public TestBalanceRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestBalanceFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestBalanceFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestBalanceFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestBalanceFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.accountId();
+			attributes[1] = this.productId();
+			attributes[2] = this.positionType();
+			attributes[3] = this.quantity();
+			attributes[4] = this.businessDateFrom();
+			attributes[5] = this.businessDateTo();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.tamsAccount());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestBalance findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestBalanceFinder.findOne(operation, false);
+		}
+
+		public TestBalance findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestBalanceFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestBalance> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestBalanceList((Operation) operation);
+		}
+
+		public MithraList<? extends TestBalance> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestBalanceList result = (TestBalanceList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestBalance> constructEmptyList()
+		{
+			return new TestBalanceList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 57089623;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return TestBalanceFinder.zSourceAttributeType;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_NBR_C","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,20,true, false) :
+					new MappedStringAttribute(TestBalanceFinder.accountId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("tamsAccount");
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_SEC_ID_I","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,20,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestBalanceFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> positionType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.positionType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("POS_TYP_C","","positionType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,16,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestBalanceFinder.positionType(), this.mapper, this.zGetValueSelector());
+				this.positionType = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_QUANTITY_M","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,56,4,0, false) :
+					new MappedDoubleAttribute(TestBalanceFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestBalanceFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestBalanceFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestBalanceFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestBalanceFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestBalanceFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestBalanceFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestBalanceFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestBalanceFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(TestBalanceFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestBalanceFinder.businessDateInfinity,false,false,TestBalanceFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestBalanceFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TestBalanceFinder.processingDateInfinity,false,true,TestBalanceFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestBalanceFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public TamsAccountFinder.TamsAccountSingleFinderForRelatedClasses<ParentOwnerType, TamsAccount, TestBalance> tamsAccount()
+		{
+			TestBalanceTamsAccountFinderSubclass<ParentOwnerType> result = this.tamsAccount;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestBalanceFinder.zGetTestBalanceTamsAccountReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestBalanceTamsAccountFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.tamsAccount = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return TestBalanceFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestBalanceFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestBalanceFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestBalanceCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestBalanceRelatedFinder<ParentOwnerType, ReturnType, TestBalanceList, OwnerType>
+	{
+		public TestBalanceCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestBalanceCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestBalanceCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestBalanceCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestBalanceSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestBalanceRelatedFinder<ParentOwnerType, ReturnType, TestBalanceList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestBalanceSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestBalanceSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestBalance other)
+		{
+			return this.accountId().eq(other.getAccountId())
+			.and(this.productId().eq(other.getProductId()))
+			.and(this.positionType().eq(other.getPositionType()))
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestBalance findByPrimaryKey(String accountId, int productId, int positionType, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+		{
+			TestBalance _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountId != null && acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountId);
+				_bean.setI1AsInteger(productId);
+				_bean.setI2AsInteger(positionType);
+				_bean.setO2(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestBalance) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.productId().eq(productId)).and(this.positionType().eq(positionType)).and(this.acmapCode().eq(acmapCode)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestBalanceSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestBalanceSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestBalanceSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper tamsAccountReverseMapper = null;
+	public static Mapper zGetTestBalanceTamsAccountReverseMapper()
+	{
+		if (tamsAccountReverseMapper == null)
+		{
+			tamsAccountReverseMapper = zConstructTestBalanceTamsAccountReverseMapper();
+		}
+
+		return tamsAccountReverseMapper;
+	}
+
+	private static Mapper tamsAccountMapper = null;
+	public static Mapper zGetTestBalanceTamsAccountMapper()
+	{
+		if (tamsAccountMapper == null)
+		{
+			tamsAccountMapper = zConstructTestBalanceTamsAccountMapper();
+		}
+
+		return tamsAccountMapper;
+	}
+
+	private static Mapper tamsAccountPureReverseMapper = null;
+	public static Mapper zGetTestBalanceTamsAccountPureReverseMapper()
+	{
+		if (tamsAccountPureReverseMapper == null)
+		{
+			tamsAccountPureReverseMapper = zConstructTestBalanceTamsAccountPureReverseMapper();
+		}
+
+		return tamsAccountPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestBalanceTamsAccountPureReverseMapper()
+	{
+		InternalList tamsAccountMapperMapperList = new InternalList(4);
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(0));
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(2));
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(4));
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(6));
+		Mapper tamsAccountMapper = new MultiEqualityMapper(tamsAccountMapperMapperList);
+		tamsAccountMapper.setName("tamsAccount");
+		return tamsAccountMapper;
+	}
+
+	private static Mapper zConstructTestBalanceTamsAccountReverseMapper()
+	{
+		InternalList tamsAccountMapperMapperList = new InternalList(4);
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(0));
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(2));
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(4));
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(6));
+		Mapper tamsAccountMapper = new MultiEqualityMapper(tamsAccountMapperMapperList);
+		tamsAccountMapper.setName("tamsAccount");
+		return tamsAccountMapper;
+	}
+
+	private static Mapper zConstructTestBalanceTamsAccountMapper()
+	{
+		InternalList tamsAccountMapperMapperList = new InternalList(4);
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(1));
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(3));
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(5));
+		tamsAccountMapperMapperList.add(TestBalanceFinder.zGetConstantJoin(7));
+		Mapper tamsAccountMapper = new MultiEqualityMapper(tamsAccountMapperMapperList);
+		tamsAccountMapper.setName("tamsAccount_Reverse");
+		return tamsAccountMapper;
+	}
+
+	/** maps to TEST_BALANCE.ACCT_NBR_C **/
+	public static StringAttribute<TestBalance> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to TEST_BALANCE.PROD_SEC_ID_I **/
+	public static IntegerAttribute<TestBalance> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to TEST_BALANCE.POS_TYP_C **/
+	public static IntegerAttribute<TestBalance> positionType()
+	{
+		return finder.positionType();
+	}
+
+	/** maps to TEST_BALANCE.POS_QUANTITY_M **/
+	public static DoubleAttribute<TestBalance> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to TEST_BALANCE.FROM_Z **/
+	public static TimestampAttribute<TestBalance> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TEST_BALANCE.THRU_Z **/
+	public static TimestampAttribute<TestBalance> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to TEST_BALANCE.IN_Z **/
+	public static TimestampAttribute<TestBalance> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TEST_BALANCE.OUT_Z **/
+	public static TimestampAttribute<TestBalance> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static StringAttribute<TestBalance> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static AsOfAttribute<TestBalance> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TestBalance> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static TamsAccountFinder.TamsAccountSingleFinderForRelatedClasses<TestBalance, TamsAccount, TestBalance> tamsAccount()
+	{
+		return finder.tamsAccount();
+	}
+
+	public static class TestBalanceTamsAccountFinderSubclass<ParentOwnerType> extends TamsAccountFinder.TamsAccountSingleFinderForRelatedClasses<ParentOwnerType, TamsAccount, TestBalance>
+	{
+		public TestBalanceTamsAccountFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "tamsAccount";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TamsAccountFinder.accountNumber(),
+				TamsAccountFinder.deskId(),
+				TamsAccountFinder.businessDate(),
+				TamsAccountFinder.processingDate()).withExtractors(
+				TestBalanceFinder.accountId(),
+				TestBalanceFinder.acmapCode(),
+				TestBalanceFinder.businessDate(),
+				TestBalanceFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestBalanceTamsAccountFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TamsAccount plainValueOf(TestBalance _obj)
+		{
+			return _obj.getTamsAccount();
+		}
+
+		protected TamsAccountList plainListValueOf(Object _obj)
+		{
+			return ((TestBalanceList)_obj).getTamsAccounts();
+		}
+	}
+
+	public static Operation eq(TestBalance other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountId());
+	}
+
+	public static TestBalanceSingleFinder<TestBalance, Object, TestBalance> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, productId()
+			, positionType()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, accountId()
+			, productId()
+			, positionType()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			accountId()
+			, acmapCode()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = quantity();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestBalance");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
@@ -0,0 +1,195 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestBalanceListAbstract extends DelegatingList<TestBalance> implements MithraDatedTransactionalList<TestBalance>
+{
+	public TestBalanceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestBalanceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestBalanceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestBalanceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestBalance[] elements()
+	{
+		TestBalance[] result = new TestBalance[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestBalanceList intersection(TestBalanceList another)
+	{
+		return (TestBalanceList)super.intersection(another);
+	}
+
+	public TestBalance getTestBalanceAt(int index)
+	{
+		return (TestBalance)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.accountId = TamsAccount.accountNumber and this.acmapCode = TamsAccount.deskId</pre>
+	* @return The tams account
+	*/
+	public TamsAccountList getTamsAccounts()
+	{
+		return (TamsAccountList) this.zGetDelegated().resolveRelationship(this, TestBalanceFinder.tamsAccount());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestBalanceFinder.getMithraObjectPortal();
+	}
+
+	public TestBalanceList getNonPersistentCopy()
+	{
+		TestBalanceList result = new TestBalanceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestBalanceList asAdhoc()
+	{
+		return (TestBalanceList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestBalance> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestBalanceList merge(MithraTransactionalList<TestBalance> incoming, TopLevelMergeOptions<TestBalance> mergeOptions)
+	{
+		return (TestBalanceList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestBalanceList getDetachedCopy()
+	{
+		TestBalanceList result = new TestBalanceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(TestBalanceFinder.accountId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(TestBalanceFinder.productId(), newValue);
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(TestBalanceFinder.positionType(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(TestBalanceFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestBalanceFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestBalanceFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestBalanceFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestBalanceFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TestBalanceFinder.acmapCode(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(TestBalanceFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,961 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestBalanceNoAcmapFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestBalanceNoAcmap";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestBalanceNoAcmap";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestBalanceNoAcmap");
+	private static final TestBalanceNoAcmapSingleFinder<TestBalanceNoAcmap, Object, TestBalanceNoAcmap> finder = new TestBalanceNoAcmapSingleFinder<TestBalanceNoAcmap, Object, TestBalanceNoAcmap>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestBalanceNoAcmapFinder.TestBalanceNoAcmapRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("positionType");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("account");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = TestBalanceNoAcmapFinder.accountId().constructEqualityMapper(TamsMithraAccountFinder.code());
+			result[1] = TamsMithraAccountFinder.code().constructEqualityMapper(TestBalanceNoAcmapFinder.accountId());
+			result[2] = TestBalanceNoAcmapFinder.businessDate().constructEqualityMapper(TamsMithraAccountFinder.businessDate());
+			result[3] = TamsMithraAccountFinder.businessDate().constructEqualityMapper(TestBalanceNoAcmapFinder.businessDate());
+			result[4] = TestBalanceNoAcmapFinder.processingDate().constructEqualityMapper(TamsMithraAccountFinder.processingDate());
+			result[5] = TamsMithraAccountFinder.processingDate().constructEqualityMapper(TestBalanceNoAcmapFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestBalanceNoAcmap findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestBalanceNoAcmap findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestBalanceNoAcmapList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestBalanceNoAcmapList) finder.findMany(operation);
+	}
+
+	public static TestBalanceNoAcmapList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestBalanceNoAcmapList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestBalanceNoAcmap findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestBalanceNoAcmap) FinderUtils.findOne(found);
+	}
+
+	public static TestBalanceNoAcmap findByPrimaryKey(String accountId, int productId, int positionType, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(accountId, productId, positionType, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestBalanceNoAcmapData _castedTargetData = (TestBalanceNoAcmapData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountId()) && _bean.getI1AsInteger() == _castedTargetData.getProductId() && _bean.getI2AsInteger() == _castedTargetData.getPositionType())
+			{
+				return TestBalanceNoAcmapFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TestBalanceNoAcmapFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static TestBalanceNoAcmap zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestBalanceNoAcmap) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestBalanceNoAcmapRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestBalanceNoAcmap, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> accountId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private IntegerAttribute<ParentOwnerType> positionType;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private TestBalanceNoAcmapAccountFinderSubclass<ParentOwnerType> account;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestBalanceNoAcmapRelatedFinder()
+		{
+			super();
+		}
+
+		public TestBalanceNoAcmapRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestBalanceNoAcmapFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestBalanceNoAcmapFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestBalanceNoAcmapFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestBalanceNoAcmapFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.accountId();
+			attributes[1] = this.productId();
+			attributes[2] = this.positionType();
+			attributes[3] = this.quantity();
+			attributes[4] = this.businessDateFrom();
+			attributes[5] = this.businessDateTo();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.account());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestBalanceNoAcmap findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestBalanceNoAcmapFinder.findOne(operation, false);
+		}
+
+		public TestBalanceNoAcmap findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestBalanceNoAcmapFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestBalanceNoAcmap> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestBalanceNoAcmapList((Operation) operation);
+		}
+
+		public MithraList<? extends TestBalanceNoAcmap> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestBalanceNoAcmapList result = (TestBalanceNoAcmapList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestBalanceNoAcmap> constructEmptyList()
+		{
+			return new TestBalanceNoAcmapList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 147922594;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_NBR_C","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,20,true, false) :
+					new MappedStringAttribute(TestBalanceNoAcmapFinder.accountId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("account");
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_SEC_ID_I","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,16,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestBalanceNoAcmapFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> positionType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.positionType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("POS_TYP_C","","positionType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestBalanceNoAcmapFinder.positionType(), this.mapper, this.zGetValueSelector());
+				this.positionType = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_QUANTITY_M","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,52,4,0, false) :
+					new MappedDoubleAttribute(TestBalanceNoAcmapFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestBalanceNoAcmapFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestBalanceNoAcmapFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestBalanceNoAcmapFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestBalanceNoAcmapFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,36,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestBalanceNoAcmapFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestBalanceNoAcmapFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,44,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestBalanceNoAcmapFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestBalanceNoAcmapFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestBalanceNoAcmapFinder.businessDateInfinity,false,false,TestBalanceNoAcmapFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestBalanceNoAcmapFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TestBalanceNoAcmapFinder.processingDateInfinity,false,true,TestBalanceNoAcmapFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestBalanceNoAcmapFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public TamsMithraAccountFinder.TamsMithraAccountSingleFinderForRelatedClasses<ParentOwnerType, TamsMithraAccount, TestBalanceNoAcmap> account()
+		{
+			TestBalanceNoAcmapAccountFinderSubclass<ParentOwnerType> result = this.account;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestBalanceNoAcmapFinder.zGetTestBalanceNoAcmapAccountReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestBalanceNoAcmapAccountFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.account = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestBalanceNoAcmapFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestBalanceNoAcmapFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestBalanceNoAcmapCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestBalanceNoAcmapRelatedFinder<ParentOwnerType, ReturnType, TestBalanceNoAcmapList, OwnerType>
+	{
+		public TestBalanceNoAcmapCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestBalanceNoAcmapCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestBalanceNoAcmapCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestBalanceNoAcmapCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestBalanceNoAcmapSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestBalanceNoAcmapRelatedFinder<ParentOwnerType, ReturnType, TestBalanceNoAcmapList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestBalanceNoAcmapSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestBalanceNoAcmapSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestBalanceNoAcmap other)
+		{
+			return this.accountId().eq(other.getAccountId())
+			.and(this.productId().eq(other.getProductId()))
+			.and(this.positionType().eq(other.getPositionType()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestBalanceNoAcmap findByPrimaryKey(String accountId, int productId, int positionType, Timestamp businessDate, Timestamp processingDate)
+		{
+			TestBalanceNoAcmap _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountId);
+				_bean.setI1AsInteger(productId);
+				_bean.setI2AsInteger(positionType);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestBalanceNoAcmap) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.productId().eq(productId)).and(this.positionType().eq(positionType)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestBalanceNoAcmapSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestBalanceNoAcmapSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestBalanceNoAcmapSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper accountReverseMapper = null;
+	public static Mapper zGetTestBalanceNoAcmapAccountReverseMapper()
+	{
+		if (accountReverseMapper == null)
+		{
+			accountReverseMapper = zConstructTestBalanceNoAcmapAccountReverseMapper();
+		}
+
+		return accountReverseMapper;
+	}
+
+	private static Mapper accountMapper = null;
+	public static Mapper zGetTestBalanceNoAcmapAccountMapper()
+	{
+		if (accountMapper == null)
+		{
+			accountMapper = zConstructTestBalanceNoAcmapAccountMapper();
+		}
+
+		return accountMapper;
+	}
+
+	private static Mapper accountPureReverseMapper = null;
+	public static Mapper zGetTestBalanceNoAcmapAccountPureReverseMapper()
+	{
+		if (accountPureReverseMapper == null)
+		{
+			accountPureReverseMapper = zConstructTestBalanceNoAcmapAccountPureReverseMapper();
+		}
+
+		return accountPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestBalanceNoAcmapAccountPureReverseMapper()
+	{
+		InternalList accountMapperMapperList = new InternalList(3);
+		accountMapperMapperList.add(TestBalanceNoAcmapFinder.zGetConstantJoin(0));
+		accountMapperMapperList.add(TestBalanceNoAcmapFinder.zGetConstantJoin(2));
+		accountMapperMapperList.add(TestBalanceNoAcmapFinder.zGetConstantJoin(4));
+		Mapper accountMapper = new MultiEqualityMapper(accountMapperMapperList);
+		accountMapper.setName("account");
+		return accountMapper;
+	}
+
+	private static Mapper zConstructTestBalanceNoAcmapAccountReverseMapper()
+	{
+		InternalList accountMapperMapperList = new InternalList(3);
+		accountMapperMapperList.add(TestBalanceNoAcmapFinder.zGetConstantJoin(0));
+		accountMapperMapperList.add(TestBalanceNoAcmapFinder.zGetConstantJoin(2));
+		accountMapperMapperList.add(TestBalanceNoAcmapFinder.zGetConstantJoin(4));
+		Mapper accountMapper = new MultiEqualityMapper(accountMapperMapperList);
+		accountMapper.setName("account");
+		return accountMapper;
+	}
+
+	private static Mapper zConstructTestBalanceNoAcmapAccountMapper()
+	{
+		InternalList accountMapperMapperList = new InternalList(3);
+		accountMapperMapperList.add(TestBalanceNoAcmapFinder.zGetConstantJoin(1));
+		accountMapperMapperList.add(TestBalanceNoAcmapFinder.zGetConstantJoin(3));
+		accountMapperMapperList.add(TestBalanceNoAcmapFinder.zGetConstantJoin(5));
+		Mapper accountMapper = new MultiEqualityMapper(accountMapperMapperList);
+		accountMapper.setName("account_Reverse");
+		return accountMapper;
+	}
+
+	/** maps to TEST_BALANCE_NO_ACMAP.ACCT_NBR_C **/
+	public static StringAttribute<TestBalanceNoAcmap> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to TEST_BALANCE_NO_ACMAP.PROD_SEC_ID_I **/
+	public static IntegerAttribute<TestBalanceNoAcmap> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to TEST_BALANCE_NO_ACMAP.POS_TYP_C **/
+	public static IntegerAttribute<TestBalanceNoAcmap> positionType()
+	{
+		return finder.positionType();
+	}
+
+	/** maps to TEST_BALANCE_NO_ACMAP.POS_QUANTITY_M **/
+	public static DoubleAttribute<TestBalanceNoAcmap> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to TEST_BALANCE_NO_ACMAP.FROM_Z **/
+	public static TimestampAttribute<TestBalanceNoAcmap> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TEST_BALANCE_NO_ACMAP.THRU_Z **/
+	public static TimestampAttribute<TestBalanceNoAcmap> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to TEST_BALANCE_NO_ACMAP.IN_Z **/
+	public static TimestampAttribute<TestBalanceNoAcmap> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TEST_BALANCE_NO_ACMAP.OUT_Z **/
+	public static TimestampAttribute<TestBalanceNoAcmap> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<TestBalanceNoAcmap> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TestBalanceNoAcmap> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static TamsMithraAccountFinder.TamsMithraAccountSingleFinderForRelatedClasses<TestBalanceNoAcmap, TamsMithraAccount, TestBalanceNoAcmap> account()
+	{
+		return finder.account();
+	}
+
+	public static class TestBalanceNoAcmapAccountFinderSubclass<ParentOwnerType> extends TamsMithraAccountFinder.TamsMithraAccountSingleFinderForRelatedClasses<ParentOwnerType, TamsMithraAccount, TestBalanceNoAcmap>
+	{
+		public TestBalanceNoAcmapAccountFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "account";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TamsMithraAccountFinder.code(),
+				TamsMithraAccountFinder.businessDate(),
+				TamsMithraAccountFinder.processingDate()).withExtractors(
+				TestBalanceNoAcmapFinder.accountId(),
+				TestBalanceNoAcmapFinder.businessDate(),
+				TestBalanceNoAcmapFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestBalanceNoAcmapAccountFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TamsMithraAccount plainValueOf(TestBalanceNoAcmap _obj)
+		{
+			return _obj.getAccount();
+		}
+
+		protected TamsMithraAccountList plainListValueOf(Object _obj)
+		{
+			return ((TestBalanceNoAcmapList)_obj).getAccounts();
+		}
+	}
+
+	public static Operation eq(TestBalanceNoAcmap other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountId());
+	}
+
+	public static TestBalanceNoAcmapSingleFinder<TestBalanceNoAcmap, Object, TestBalanceNoAcmap> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, productId()
+			, positionType()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, accountId()
+			, productId()
+			, positionType()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			accountId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = quantity();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestBalanceNoAcmap");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
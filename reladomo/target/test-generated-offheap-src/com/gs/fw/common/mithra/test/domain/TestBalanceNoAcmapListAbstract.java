@@ -0,0 +1,190 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestBalanceNoAcmapListAbstract extends DelegatingList<TestBalanceNoAcmap> implements MithraDatedTransactionalList<TestBalanceNoAcmap>
+{
+	public TestBalanceNoAcmapListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestBalanceNoAcmapListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestBalanceNoAcmapListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestBalanceNoAcmapListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestBalanceNoAcmap[] elements()
+	{
+		TestBalanceNoAcmap[] result = new TestBalanceNoAcmap[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestBalanceNoAcmapList intersection(TestBalanceNoAcmapList another)
+	{
+		return (TestBalanceNoAcmapList)super.intersection(another);
+	}
+
+	public TestBalanceNoAcmap getTestBalanceNoAcmapAt(int index)
+	{
+		return (TestBalanceNoAcmap)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.accountId = TamsMithraAccount.code</pre>
+	* @return The account
+	*/
+	public TamsMithraAccountList getAccounts()
+	{
+		return (TamsMithraAccountList) this.zGetDelegated().resolveRelationship(this, TestBalanceNoAcmapFinder.account());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestBalanceNoAcmapFinder.getMithraObjectPortal();
+	}
+
+	public TestBalanceNoAcmapList getNonPersistentCopy()
+	{
+		TestBalanceNoAcmapList result = new TestBalanceNoAcmapList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestBalanceNoAcmapList asAdhoc()
+	{
+		return (TestBalanceNoAcmapList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestBalanceNoAcmap> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestBalanceNoAcmapList merge(MithraTransactionalList<TestBalanceNoAcmap> incoming, TopLevelMergeOptions<TestBalanceNoAcmap> mergeOptions)
+	{
+		return (TestBalanceNoAcmapList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestBalanceNoAcmapList getDetachedCopy()
+	{
+		TestBalanceNoAcmapList result = new TestBalanceNoAcmapList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(TestBalanceNoAcmapFinder.accountId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(TestBalanceNoAcmapFinder.productId(), newValue);
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(TestBalanceNoAcmapFinder.positionType(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(TestBalanceNoAcmapFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestBalanceNoAcmapFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestBalanceNoAcmapFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestBalanceNoAcmapFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestBalanceNoAcmapFinder.processingDateTo(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(TestBalanceNoAcmapFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
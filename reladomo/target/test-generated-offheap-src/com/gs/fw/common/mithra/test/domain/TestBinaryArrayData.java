@@ -0,0 +1,271 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestBinaryArrayData
+implements MithraDataObject
+{
+	private byte[] pictureData;
+	private int testBinaryArrayId;
+	public boolean isPictureDataNull()
+	{
+		return this.getPictureData() == null;
+	}
+
+	public boolean isTestBinaryArrayIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		if (pictureData == null) out.writeInt(-1); else 
+		{
+			out.writeInt(pictureData.length); out.write(pictureData); 
+		}
+
+		;
+		out.writeInt(this.testBinaryArrayId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public byte[] getPictureData()
+	{
+		return this.pictureData;
+	}
+
+	public void setPictureData(byte[] value)
+	{
+		this.pictureData = value;
+	}
+
+	public void setPictureDataNull()
+	{
+		this.setPictureData(null);
+	}
+
+	public int getTestBinaryArrayId()
+	{
+		return this.testBinaryArrayId;
+	}
+
+	public void setTestBinaryArrayId(int value)
+	{
+		this.testBinaryArrayId = value;
+	}
+
+	public void setTestBinaryArrayIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(TestBinaryArrayData copy, boolean withRelationships)
+	{
+		copy.pictureData = this.pictureData;
+		copy.testBinaryArrayId = this.testBinaryArrayId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		int _pictureDataLength = in.readInt(); if (_pictureDataLength == -1) pictureData = null; else 
+		{
+			pictureData = new byte[_pictureDataLength];in.readFully(pictureData);
+		}
+
+		;
+		this.testBinaryArrayId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TestBinaryArrayData otherData = (TestBinaryArrayData) other;
+		if (getTestBinaryArrayId() != otherData.getTestBinaryArrayId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.testBinaryArrayId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.testBinaryArrayId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TestBinaryArrayData testBinaryArrayData = (TestBinaryArrayData) newData;
+		this.setPictureData(testBinaryArrayData.getPictureData());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TestBinaryArrayData other = (TestBinaryArrayData) newData;
+		if (!isPictureDataNull() ? !Arrays.equals(getPictureData(),other.getPictureData()) : !other.isPictureDataNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TestBinaryArrayData copy = new TestBinaryArrayData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TestBinaryArrayData copy = new TestBinaryArrayData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "testBinaryArrayId: "+(""+getTestBinaryArrayId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestBinaryArrayData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TestBinaryArrayFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TestBinaryArrayFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestBinaryArrayData";
+	}
+}
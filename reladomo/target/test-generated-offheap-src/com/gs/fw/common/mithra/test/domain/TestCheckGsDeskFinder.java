@@ -0,0 +1,777 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestCheckGsDeskFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestCheckGsDesk";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestCheckGsDesk";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestCheckGsDesk");
+	private static final TestCheckGsDeskSingleFinder<TestCheckGsDesk, Object, TestCheckGsDesk> finder = new TestCheckGsDeskSingleFinder<TestCheckGsDesk, Object, TestCheckGsDesk>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestCheckGsDeskFinder.TestCheckGsDeskRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("checkId");
+		finderMethodMap.addNormalAttributeName("gsDeskId");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addRelationshipName("gsDesk");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = TestCheckGsDeskFinder.gsDeskId().constructEqualityMapper(GsDeskFinder.id());
+			result[1] = GsDeskFinder.id().constructEqualityMapper(TestCheckGsDeskFinder.gsDeskId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestCheckGsDesk findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestCheckGsDesk findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestCheckGsDeskList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestCheckGsDeskList) finder.findMany(operation);
+	}
+
+	public static TestCheckGsDeskList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestCheckGsDeskList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestCheckGsDesk findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestCheckGsDesk) FinderUtils.findOne(found);
+	}
+
+	public static TestCheckGsDesk findByPrimaryKey(int checkId, int gsDeskId)
+	{
+		return finder.findByPrimaryKey(checkId, gsDeskId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestCheckGsDeskData _castedTargetData = (TestCheckGsDeskData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getCheckId() && _bean.getI2AsInteger() == _castedTargetData.getGsDeskId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static TestCheckGsDesk zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestCheckGsDesk) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestCheckGsDeskRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestCheckGsDesk, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> checkId;
+		private IntegerAttribute<ParentOwnerType> gsDeskId;
+		private StringAttribute<ParentOwnerType> name;
+		private TestCheckGsDeskGsDeskFinderSubclass<ParentOwnerType> gsDesk;
+		public TestCheckGsDeskRelatedFinder()
+		{
+			super();
+		}
+
+		public TestCheckGsDeskRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestCheckGsDeskFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestCheckGsDeskFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestCheckGsDeskFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestCheckGsDeskFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.checkId();
+			attributes[1] = this.gsDeskId();
+			attributes[2] = this.name();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.gsDesk());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestCheckGsDesk findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestCheckGsDeskFinder.findOne(operation, false);
+		}
+
+		public TestCheckGsDesk findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestCheckGsDeskFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestCheckGsDesk> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestCheckGsDeskList((Operation) operation);
+		}
+
+		public MithraList<? extends TestCheckGsDesk> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestCheckGsDeskList result = (TestCheckGsDeskList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestCheckGsDesk> constructEmptyList()
+		{
+			return new TestCheckGsDeskList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1595723362;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> checkId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.checkId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CHECK_ID","","checkId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestCheckGsDeskFinder.checkId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "TestSecuritiesDealDetailImpl", "checkDesks");
+				this.checkId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> gsDeskId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.gsDeskId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("GS_DESK_ID","","gsDeskId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestCheckGsDeskFinder.gsDeskId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("gsDesk");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "GsDesk", "checkGsDesk");
+				this.gsDeskId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(TestCheckGsDeskFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public GsDeskFinder.GsDeskSingleFinderForRelatedClasses<ParentOwnerType, GsDesk, TestCheckGsDesk> gsDesk()
+		{
+			TestCheckGsDeskGsDeskFinderSubclass<ParentOwnerType> result = this.gsDesk;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestCheckGsDeskFinder.zGetTestCheckGsDeskGsDeskReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestCheckGsDeskGsDeskFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.gsDesk = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestCheckGsDeskFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestCheckGsDeskFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestCheckGsDeskCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestCheckGsDeskRelatedFinder<ParentOwnerType, ReturnType, TestCheckGsDeskList, OwnerType>
+	{
+		public TestCheckGsDeskCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestCheckGsDeskCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestCheckGsDeskCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestCheckGsDeskCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestCheckGsDeskSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestCheckGsDeskRelatedFinder<ParentOwnerType, ReturnType, TestCheckGsDeskList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestCheckGsDeskSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestCheckGsDeskSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestCheckGsDesk other)
+		{
+			return this.checkId().eq(other.getCheckId())
+			.and(this.gsDeskId().eq(other.getGsDeskId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestCheckGsDesk findByPrimaryKey(int checkId, int gsDeskId)
+		{
+			TestCheckGsDesk _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(checkId);
+				_bean.setI2AsInteger(gsDeskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestCheckGsDesk) _related;
+			if (_related == null)
+			{
+				_op = this.checkId().eq(checkId).and(this.gsDeskId().eq(gsDeskId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestCheckGsDeskSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestCheckGsDeskSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestCheckGsDeskSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper gsDeskReverseMapper = null;
+	public static Mapper zGetTestCheckGsDeskGsDeskReverseMapper()
+	{
+		if (gsDeskReverseMapper == null)
+		{
+			gsDeskReverseMapper = zConstructTestCheckGsDeskGsDeskReverseMapper();
+		}
+
+		return gsDeskReverseMapper;
+	}
+
+	private static Mapper gsDeskMapper = null;
+	public static Mapper zGetTestCheckGsDeskGsDeskMapper()
+	{
+		if (gsDeskMapper == null)
+		{
+			gsDeskMapper = zConstructTestCheckGsDeskGsDeskMapper();
+		}
+
+		return gsDeskMapper;
+	}
+
+	private static Mapper gsDeskPureReverseMapper = null;
+	public static Mapper zGetTestCheckGsDeskGsDeskPureReverseMapper()
+	{
+		if (gsDeskPureReverseMapper == null)
+		{
+			gsDeskPureReverseMapper = zConstructTestCheckGsDeskGsDeskPureReverseMapper();
+		}
+
+		return gsDeskPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestCheckGsDeskGsDeskPureReverseMapper()
+	{
+		Mapper gsDeskMapper = TestCheckGsDeskFinder.zGetConstantJoin(0);
+		gsDeskMapper.setName("gsDesk");
+		return gsDeskMapper;
+	}
+
+	private static Mapper zConstructTestCheckGsDeskGsDeskReverseMapper()
+	{
+		Mapper gsDeskMapper = TestCheckGsDeskFinder.zGetConstantJoin(0);
+		gsDeskMapper.setName("gsDesk");
+		return gsDeskMapper;
+	}
+
+	private static Mapper zConstructTestCheckGsDeskGsDeskMapper()
+	{
+		Mapper gsDeskMapper = TestCheckGsDeskFinder.zGetConstantJoin(1);
+		gsDeskMapper.setName("checkGsDesk");
+		return gsDeskMapper;
+	}
+
+	/** maps to CHECK_GS_DESK.CHECK_ID **/
+	public static IntegerAttribute<TestCheckGsDesk> checkId()
+	{
+		return finder.checkId();
+	}
+
+	/** maps to CHECK_GS_DESK.GS_DESK_ID **/
+	public static IntegerAttribute<TestCheckGsDesk> gsDeskId()
+	{
+		return finder.gsDeskId();
+	}
+
+	/** maps to CHECK_GS_DESK."NAME" **/
+	public static StringAttribute<TestCheckGsDesk> name()
+	{
+		return finder.name();
+	}
+
+	public static GsDeskFinder.GsDeskSingleFinderForRelatedClasses<TestCheckGsDesk, GsDesk, TestCheckGsDesk> gsDesk()
+	{
+		return finder.gsDesk();
+	}
+
+	public static class TestCheckGsDeskGsDeskFinderSubclass<ParentOwnerType> extends GsDeskFinder.GsDeskSingleFinderForRelatedClasses<ParentOwnerType, GsDesk, TestCheckGsDesk>
+	{
+		public TestCheckGsDeskGsDeskFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "gsDesk";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestCheckGsDeskGsDeskFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected GsDesk plainValueOf(TestCheckGsDesk _obj)
+		{
+			return _obj.getGsDesk();
+		}
+
+		protected GsDeskList plainListValueOf(Object _obj)
+		{
+			return ((TestCheckGsDeskList)_obj).getGsDesks();
+		}
+	}
+
+	public static Operation eq(TestCheckGsDesk other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(checkId());
+	}
+
+	public static TestCheckGsDeskSingleFinder<TestCheckGsDesk, Object, TestCheckGsDesk> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+			, gsDeskId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+			, checkId()
+			, gsDeskId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			gsDeskId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			checkId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			GsDeskFinder.getFinderInstance(),TestSecuritiesDealDetailImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			GsDeskFinder.getFinderInstance(),TestSecuritiesDealDetailImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestCheckGsDesk");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,759 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestConflictCheckImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestConflictCheckImpl.class.getName());
+	private static final RelationshipHashStrategy forsecuritiesDealDetail = new SecuritiesDealDetailRhs();
+	private static final RelationshipHashStrategy forbankingDealDetail = new BankingDealDetailRhs();
+	private static final class SecuritiesDealDetailRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestConflictCheckImplData _castedSrcData = (TestConflictCheckImplData) _srcData;
+			TestSecuritiesDealDetailImplData _castedTargetData = (TestSecuritiesDealDetailImplData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestConflictCheckImplData _castedSrcData = (TestConflictCheckImplData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class BankingDealDetailRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestConflictCheckImplData _castedSrcData = (TestConflictCheckImplData) _srcData;
+			TestBankingDealDetailImplData _castedTargetData = (TestBankingDealDetailImplData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestConflictCheckImplData _castedSrcData = (TestConflictCheckImplData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public TestConflictCheckImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestConflictCheckImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestConflictCheckImpl) super.getDetachedCopy();
+	}
+
+	public TestConflictCheckImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestConflictCheckImpl result = (TestConflictCheckImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestConflictCheckImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestConflictCheckImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestConflictCheckImpl zFindOriginal()
+	{
+		TestConflictCheckImplData data = (TestConflictCheckImplData) this.currentData;
+		Operation op;
+		op = TestConflictCheckImplFinder.id().eq(data.getId());
+		return TestConflictCheckImplFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isSecuritiesDealDetailModifiedSinceDetachment()) return true;
+		if(isBankingDealDetailModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestConflictCheckImplData();
+	}
+
+	protected void zSetFromTestConflictCheckImplData( TestConflictCheckImplData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestConflictCheckImplData( TestConflictCheckImplData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isIdNull()
+	{
+		return ((TestConflictCheckImplData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		TestConflictCheckImplData data = (TestConflictCheckImplData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(TestConflictCheckImplFinder.id(), newValue, true, false ,false);
+		if (d == null) return;
+		TestConflictCheckImplData data = (TestConflictCheckImplData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			TestSecuritiesDealDetailImpl securitiesDealDetail =
+			(TestSecuritiesDealDetailImpl ) data.getSecuritiesDealDetail();
+			if (securitiesDealDetail != null)
+			{
+				securitiesDealDetail.setCheckId(newValue);
+			}
+
+			TestBankingDealDetailImpl bankingDealDetail =
+			(TestBankingDealDetailImpl ) data.getBankingDealDetail();
+			if (bankingDealDetail != null)
+			{
+				bankingDealDetail.setCheckId(newValue);
+			}
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestConflictCheckImplData _newData = (TestConflictCheckImplData) _data;
+		if (_newData.getSecuritiesDealDetail() instanceof NulledRelation)
+		{
+			TestSecuritiesDealDetailImpl securitiesDealDetail =
+			this.getSecuritiesDealDetail();
+			if (securitiesDealDetail != null)
+			{
+				securitiesDealDetail.cascadeDelete();
+			}
+		}
+		else
+		{
+			TestSecuritiesDealDetailImpl securitiesDealDetail =
+			(TestSecuritiesDealDetailImpl) _newData.getSecuritiesDealDetail();
+			if (securitiesDealDetail != null)
+			{
+				TestSecuritiesDealDetailImpl _existing =
+				this.getSecuritiesDealDetail();
+				if (_existing == null)
+				{
+					securitiesDealDetail.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(securitiesDealDetail.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(securitiesDealDetail.zGetTxDataForRead());
+				}
+			}
+		}
+
+		if (_newData.getBankingDealDetail() instanceof NulledRelation)
+		{
+			TestBankingDealDetailImpl bankingDealDetail =
+			this.getBankingDealDetail();
+			if (bankingDealDetail != null)
+			{
+				bankingDealDetail.cascadeDelete();
+			}
+		}
+		else
+		{
+			TestBankingDealDetailImpl bankingDealDetail =
+			(TestBankingDealDetailImpl) _newData.getBankingDealDetail();
+			if (bankingDealDetail != null)
+			{
+				TestBankingDealDetailImpl _existing =
+				this.getBankingDealDetail();
+				if (_existing == null)
+				{
+					bankingDealDetail.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(bankingDealDetail.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(bankingDealDetail.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestConflictCheckImplData _newData = (TestConflictCheckImplData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getSecuritiesDealDetail() != null && !(_newData.getSecuritiesDealDetail() instanceof NulledRelation))
+		{
+			((TestSecuritiesDealDetailImpl)_newData.getSecuritiesDealDetail()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getBankingDealDetail() != null && !(_newData.getBankingDealDetail() instanceof NulledRelation))
+		{
+			((TestBankingDealDetailImpl)_newData.getBankingDealDetail()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestConflictCheckImplData _newData = (TestConflictCheckImplData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getSecuritiesDealDetail() != null && !(_newData.getSecuritiesDealDetail() instanceof NulledRelation))
+		{
+			((TestSecuritiesDealDetailImpl)_newData.getSecuritiesDealDetail()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getBankingDealDetail() != null && !(_newData.getBankingDealDetail() instanceof NulledRelation))
+		{
+			((TestBankingDealDetailImpl)_newData.getBankingDealDetail()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = TestSecuritiesDealDetailImpl.checkId</pre>
+	* @see TestSecuritiesDealDetailImpl#getConflictCheck() reverse relationship TestSecuritiesDealDetailImpl.getConflictCheck()
+	* @return The securities deal detail
+	*/
+	public TestSecuritiesDealDetailImpl getSecuritiesDealDetail()
+	{
+		TestSecuritiesDealDetailImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestConflictCheckImplData _data = (TestConflictCheckImplData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestSecuritiesDealDetailImplFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forsecuritiesDealDetail, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestSecuritiesDealDetailImpl) _related;
+				if (_related == null)
+				{
+					_op = TestSecuritiesDealDetailImplFinder.checkId().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getSecuritiesDealDetail() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestSecuritiesDealDetailImpl) _data.getSecuritiesDealDetail();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestSecuritiesDealDetailImplFinder.checkId().eq(_data.getId());
+					_result = TestSecuritiesDealDetailImplFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (TestConflictCheckImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setSecuritiesDealDetail(_result);
+				if (_result != null) _result.zSetParentContainerconflictCheck(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestSecuritiesDealDetailImpl) _data.getSecuritiesDealDetail();
+		}
+
+		if (_op != null)
+		{
+			_result = TestSecuritiesDealDetailImplFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setSecuritiesDealDetail(TestSecuritiesDealDetailImpl securitiesDealDetail)
+	{
+		TestSecuritiesDealDetailImpl _securitiesDealDetail = (TestSecuritiesDealDetailImpl) securitiesDealDetail;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestConflictCheckImplData _data = (TestConflictCheckImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getSecuritiesDealDetail();
+			_data.setSecuritiesDealDetail(_securitiesDealDetail);
+			if (_securitiesDealDetail != null)
+			{
+				_securitiesDealDetail.setCheckId(_data.getId());
+				_securitiesDealDetail.zSetParentContainerconflictCheck(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setSecuritiesDealDetail(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			TestSecuritiesDealDetailImpl _existing = this.getSecuritiesDealDetail();
+			if (_securitiesDealDetail != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_securitiesDealDetail != null)
+				{
+					_securitiesDealDetail.setCheckId(_data.getId());
+					_securitiesDealDetail.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isSecuritiesDealDetailModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestConflictCheckImplData _data = (TestConflictCheckImplData) _behavior.getCurrentDataForRead(this);
+		if (_data.getSecuritiesDealDetail() instanceof NulledRelation)
+		{
+			TestSecuritiesDealDetailImpl _existing = this.getOriginalPersistentObject().getSecuritiesDealDetail();
+			return _existing != null;
+		}
+
+		TestSecuritiesDealDetailImpl securitiesDealDetail =
+		(TestSecuritiesDealDetailImpl) _data.getSecuritiesDealDetail();
+		if( securitiesDealDetail != null)
+		{
+			return securitiesDealDetail.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = TestBankingDealDetailImpl.checkId</pre>
+	* @see TestBankingDealDetailImpl#getConflictCheck() reverse relationship TestBankingDealDetailImpl.getConflictCheck()
+	* @return The banking deal detail
+	*/
+	public TestBankingDealDetailImpl getBankingDealDetail()
+	{
+		TestBankingDealDetailImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestConflictCheckImplData _data = (TestConflictCheckImplData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestBankingDealDetailImplFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forbankingDealDetail, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestBankingDealDetailImpl) _related;
+				if (_related == null)
+				{
+					_op = TestBankingDealDetailImplFinder.checkId().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getBankingDealDetail() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestBankingDealDetailImpl) _data.getBankingDealDetail();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestBankingDealDetailImplFinder.checkId().eq(_data.getId());
+					_result = TestBankingDealDetailImplFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (TestConflictCheckImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setBankingDealDetail(_result);
+				if (_result != null) _result.zSetParentContainerconflictCheck(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestBankingDealDetailImpl) _data.getBankingDealDetail();
+		}
+
+		if (_op != null)
+		{
+			_result = TestBankingDealDetailImplFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setBankingDealDetail(TestBankingDealDetailImpl bankingDealDetail)
+	{
+		TestBankingDealDetailImpl _bankingDealDetail = (TestBankingDealDetailImpl) bankingDealDetail;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestConflictCheckImplData _data = (TestConflictCheckImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getBankingDealDetail();
+			_data.setBankingDealDetail(_bankingDealDetail);
+			if (_bankingDealDetail != null)
+			{
+				_bankingDealDetail.setCheckId(_data.getId());
+				_bankingDealDetail.zSetParentContainerconflictCheck(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setBankingDealDetail(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			TestBankingDealDetailImpl _existing = this.getBankingDealDetail();
+			if (_bankingDealDetail != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_bankingDealDetail != null)
+				{
+					_bankingDealDetail.setCheckId(_data.getId());
+					_bankingDealDetail.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isBankingDealDetailModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestConflictCheckImplData _data = (TestConflictCheckImplData) _behavior.getCurrentDataForRead(this);
+		if (_data.getBankingDealDetail() instanceof NulledRelation)
+		{
+			TestBankingDealDetailImpl _existing = this.getOriginalPersistentObject().getBankingDealDetail();
+			return _existing != null;
+		}
+
+		TestBankingDealDetailImpl bankingDealDetail =
+		(TestBankingDealDetailImpl) _data.getBankingDealDetail();
+		if( bankingDealDetail != null)
+		{
+			return bankingDealDetail.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestConflictCheckImplData _data = (TestConflictCheckImplData) _behavior.getCurrentDataForWrite(this);
+		TestSecuritiesDealDetailImpl securitiesDealDetail =
+		(TestSecuritiesDealDetailImpl) _data.getSecuritiesDealDetail();
+		TestBankingDealDetailImpl bankingDealDetail =
+		(TestBankingDealDetailImpl) _data.getBankingDealDetail();
+		_behavior.insert(this);
+		if (securitiesDealDetail != null)
+		{
+			securitiesDealDetail.cascadeInsert();
+		}
+
+		if (bankingDealDetail != null)
+		{
+			bankingDealDetail.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TestConflictCheckImplFinder.TestConflictCheckImplRelatedFinder parentFinder = (TestConflictCheckImplFinder.TestConflictCheckImplRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestConflictCheckImplData _newData = (TestConflictCheckImplData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getSecuritiesDealDetail() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.securitiesDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			TestSecuritiesDealDetailImpl securitiesDealDetail =
+			(TestSecuritiesDealDetailImpl) _newData.getSecuritiesDealDetail();
+			RelatedFinder dependentFinder = parentFinder.securitiesDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, securitiesDealDetail != null, navigationStats);
+			if (securitiesDealDetail != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(securitiesDealDetail, dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getBankingDealDetail() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.bankingDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			TestBankingDealDetailImpl bankingDealDetail =
+			(TestBankingDealDetailImpl) _newData.getBankingDealDetail();
+			RelatedFinder dependentFinder = parentFinder.bankingDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, bankingDealDetail != null, navigationStats);
+			if (bankingDealDetail != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(bankingDealDetail, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public TestConflictCheckImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestConflictCheckImplData _data = (TestConflictCheckImplData) _behavior.getCurrentDataForWrite(this);
+		TestSecuritiesDealDetailImpl securitiesDealDetail =
+		(TestSecuritiesDealDetailImpl) _data.getSecuritiesDealDetail();
+		TestBankingDealDetailImpl bankingDealDetail =
+		(TestBankingDealDetailImpl) _data.getBankingDealDetail();
+		TestConflictCheckImpl original = (TestConflictCheckImpl) _behavior.copyThenInsert(this);
+		if (securitiesDealDetail != null)
+		{
+			securitiesDealDetail.zCascadeCopyThenInsert();
+		}
+
+		if (bankingDealDetail != null)
+		{
+			bankingDealDetail.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		{
+			TestSecuritiesDealDetailImpl related = this.getSecuritiesDealDetail();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		{
+			TestBankingDealDetailImpl related = this.getBankingDealDetail();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestConflictCheckImplFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestConflictCheckImplFinder.getMithraObjectPortal();
+	}
+
+	public TestConflictCheckImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestConflictCheckImplFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestConflictCheckImplAbstract result = (TestConflictCheckImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class SecuritiesDealDetailAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestSecuritiesDealDetailImpl item = (TestSecuritiesDealDetailImpl) relatedObject;
+			item.setCheckId(getId());
+			item.zSetParentContainerconflictCheck(TestConflictCheckImplAbstract.this);
+		}
+	}
+
+	protected class SecuritiesDealDetailAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestSecuritiesDealDetailImpl item = (TestSecuritiesDealDetailImpl) relatedObject;
+			item.setCheckId(getId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class BankingDealDetailAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestBankingDealDetailImpl item = (TestBankingDealDetailImpl) relatedObject;
+			item.setCheckId(getId());
+			item.zSetParentContainerconflictCheck(TestConflictCheckImplAbstract.this);
+		}
+	}
+
+	protected class BankingDealDetailAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestBankingDealDetailImpl item = (TestBankingDealDetailImpl) relatedObject;
+			item.setCheckId(getId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,820 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestConflictCheckImplFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestConflictCheckImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestConflictCheckImpl";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestConflictCheckImpl");
+	private static final TestConflictCheckImplSingleFinder<TestConflictCheckImpl, Object, TestConflictCheckImpl> finder = new TestConflictCheckImplSingleFinder<TestConflictCheckImpl, Object, TestConflictCheckImpl>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestConflictCheckImplFinder.TestConflictCheckImplRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addRelationshipName("securitiesDealDetail");
+		finderMethodMap.addRelationshipName("bankingDealDetail");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = TestConflictCheckImplFinder.id().constructEqualityMapper(TestSecuritiesDealDetailImplFinder.checkId());
+			result[1] = TestSecuritiesDealDetailImplFinder.checkId().constructEqualityMapper(TestConflictCheckImplFinder.id());
+			result[2] = TestConflictCheckImplFinder.id().constructEqualityMapper(TestBankingDealDetailImplFinder.checkId());
+			result[3] = TestBankingDealDetailImplFinder.checkId().constructEqualityMapper(TestConflictCheckImplFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestConflictCheckImpl findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestConflictCheckImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestConflictCheckImplList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestConflictCheckImplList) finder.findMany(operation);
+	}
+
+	public static TestConflictCheckImplList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestConflictCheckImplList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestConflictCheckImpl findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestConflictCheckImpl) FinderUtils.findOne(found);
+	}
+
+	public static TestConflictCheckImpl findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestConflictCheckImplData _castedTargetData = (TestConflictCheckImplData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TestConflictCheckImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestConflictCheckImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestConflictCheckImplRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestConflictCheckImpl, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private TestConflictCheckImplSecuritiesDealDetailFinderSubclass<ParentOwnerType> securitiesDealDetail;
+		private TestConflictCheckImplBankingDealDetailFinderSubclass<ParentOwnerType> bankingDealDetail;
+		public TestConflictCheckImplRelatedFinder()
+		{
+			super();
+		}
+
+		public TestConflictCheckImplRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestConflictCheckImplFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestConflictCheckImplFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestConflictCheckImplFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestConflictCheckImplFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[1];
+			attributes[0] = this.id();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.securitiesDealDetail());
+				relatedFinders.add(this.bankingDealDetail());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.securitiesDealDetail());
+				dependentRelatedFinders.add(this.bankingDealDetail());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestConflictCheckImpl findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestConflictCheckImplFinder.findOne(operation, false);
+		}
+
+		public TestConflictCheckImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestConflictCheckImplFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestConflictCheckImpl> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestConflictCheckImplList((Operation) operation);
+		}
+
+		public MithraList<? extends TestConflictCheckImpl> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestConflictCheckImplList result = (TestConflictCheckImplList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestConflictCheckImpl> constructEmptyList()
+		{
+			return new TestConflictCheckImplList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1246447044;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CHECK_ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestConflictCheckImplFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public TestSecuritiesDealDetailImplFinder.TestSecuritiesDealDetailImplSingleFinderForRelatedClasses<ParentOwnerType, TestSecuritiesDealDetailImpl, TestConflictCheckImpl> securitiesDealDetail()
+		{
+			TestConflictCheckImplSecuritiesDealDetailFinderSubclass<ParentOwnerType> result = this.securitiesDealDetail;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestConflictCheckImplFinder.zGetTestConflictCheckImplSecuritiesDealDetailReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestConflictCheckImplSecuritiesDealDetailFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.securitiesDealDetail = result;
+			}
+
+			return result;
+		}
+
+		public TestBankingDealDetailImplFinder.TestBankingDealDetailImplSingleFinderForRelatedClasses<ParentOwnerType, TestBankingDealDetailImpl, TestConflictCheckImpl> bankingDealDetail()
+		{
+			TestConflictCheckImplBankingDealDetailFinderSubclass<ParentOwnerType> result = this.bankingDealDetail;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestConflictCheckImplFinder.zGetTestConflictCheckImplBankingDealDetailReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestConflictCheckImplBankingDealDetailFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.bankingDealDetail = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestConflictCheckImplFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestConflictCheckImplFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestConflictCheckImplCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestConflictCheckImplRelatedFinder<ParentOwnerType, ReturnType, TestConflictCheckImplList, OwnerType>
+	{
+		public TestConflictCheckImplCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestConflictCheckImplCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestConflictCheckImplCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestConflictCheckImplCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestConflictCheckImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestConflictCheckImplRelatedFinder<ParentOwnerType, ReturnType, TestConflictCheckImplList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestConflictCheckImplSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestConflictCheckImplSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestConflictCheckImpl other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestConflictCheckImpl findByPrimaryKey(int id)
+		{
+			TestConflictCheckImpl _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestConflictCheckImpl) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestConflictCheckImplSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestConflictCheckImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestConflictCheckImplSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper securitiesDealDetailReverseMapper = null;
+	public static Mapper zGetTestConflictCheckImplSecuritiesDealDetailReverseMapper()
+	{
+		if (securitiesDealDetailReverseMapper == null)
+		{
+			securitiesDealDetailReverseMapper = zConstructTestConflictCheckImplSecuritiesDealDetailReverseMapper();
+		}
+
+		return securitiesDealDetailReverseMapper;
+	}
+
+	private static Mapper securitiesDealDetailMapper = null;
+	public static Mapper zGetTestConflictCheckImplSecuritiesDealDetailMapper()
+	{
+		if (securitiesDealDetailMapper == null)
+		{
+			securitiesDealDetailMapper = zConstructTestConflictCheckImplSecuritiesDealDetailMapper();
+		}
+
+		return securitiesDealDetailMapper;
+	}
+
+	private static Mapper securitiesDealDetailPureReverseMapper = null;
+	public static Mapper zGetTestConflictCheckImplSecuritiesDealDetailPureReverseMapper()
+	{
+		if (securitiesDealDetailPureReverseMapper == null)
+		{
+			securitiesDealDetailPureReverseMapper = zConstructTestConflictCheckImplSecuritiesDealDetailPureReverseMapper();
+		}
+
+		return securitiesDealDetailPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestConflictCheckImplSecuritiesDealDetailPureReverseMapper()
+	{
+		Mapper securitiesDealDetailMapper = TestConflictCheckImplFinder.zGetConstantJoin(0);
+		securitiesDealDetailMapper.setName("securitiesDealDetail");
+		return securitiesDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestConflictCheckImplSecuritiesDealDetailReverseMapper()
+	{
+		Mapper securitiesDealDetailMapper = TestConflictCheckImplFinder.zGetConstantJoin(0);
+		securitiesDealDetailMapper.setName("securitiesDealDetail");
+		return securitiesDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestConflictCheckImplSecuritiesDealDetailMapper()
+	{
+		Mapper securitiesDealDetailMapper = TestConflictCheckImplFinder.zGetConstantJoin(1);
+		securitiesDealDetailMapper.setName("conflictCheck");
+		return securitiesDealDetailMapper;
+	}
+
+	private static Mapper bankingDealDetailReverseMapper = null;
+	public static Mapper zGetTestConflictCheckImplBankingDealDetailReverseMapper()
+	{
+		if (bankingDealDetailReverseMapper == null)
+		{
+			bankingDealDetailReverseMapper = zConstructTestConflictCheckImplBankingDealDetailReverseMapper();
+		}
+
+		return bankingDealDetailReverseMapper;
+	}
+
+	private static Mapper bankingDealDetailMapper = null;
+	public static Mapper zGetTestConflictCheckImplBankingDealDetailMapper()
+	{
+		if (bankingDealDetailMapper == null)
+		{
+			bankingDealDetailMapper = zConstructTestConflictCheckImplBankingDealDetailMapper();
+		}
+
+		return bankingDealDetailMapper;
+	}
+
+	private static Mapper bankingDealDetailPureReverseMapper = null;
+	public static Mapper zGetTestConflictCheckImplBankingDealDetailPureReverseMapper()
+	{
+		if (bankingDealDetailPureReverseMapper == null)
+		{
+			bankingDealDetailPureReverseMapper = zConstructTestConflictCheckImplBankingDealDetailPureReverseMapper();
+		}
+
+		return bankingDealDetailPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestConflictCheckImplBankingDealDetailPureReverseMapper()
+	{
+		Mapper bankingDealDetailMapper = TestConflictCheckImplFinder.zGetConstantJoin(2);
+		bankingDealDetailMapper.setName("bankingDealDetail");
+		return bankingDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestConflictCheckImplBankingDealDetailReverseMapper()
+	{
+		Mapper bankingDealDetailMapper = TestConflictCheckImplFinder.zGetConstantJoin(2);
+		bankingDealDetailMapper.setName("bankingDealDetail");
+		return bankingDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestConflictCheckImplBankingDealDetailMapper()
+	{
+		Mapper bankingDealDetailMapper = TestConflictCheckImplFinder.zGetConstantJoin(3);
+		bankingDealDetailMapper.setName("conflictCheck");
+		return bankingDealDetailMapper;
+	}
+
+	/** maps to CONFLICT_CHECK.CHECK_ID **/
+	public static IntegerAttribute<TestConflictCheckImpl> id()
+	{
+		return finder.id();
+	}
+
+	public static TestSecuritiesDealDetailImplFinder.TestSecuritiesDealDetailImplSingleFinderForRelatedClasses<TestConflictCheckImpl, TestSecuritiesDealDetailImpl, TestConflictCheckImpl> securitiesDealDetail()
+	{
+		return finder.securitiesDealDetail();
+	}
+
+	public static class TestConflictCheckImplSecuritiesDealDetailFinderSubclass<ParentOwnerType> extends TestSecuritiesDealDetailImplFinder.TestSecuritiesDealDetailImplSingleFinderForRelatedClasses<ParentOwnerType, TestSecuritiesDealDetailImpl, TestConflictCheckImpl>
+	{
+		public TestConflictCheckImplSecuritiesDealDetailFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "securitiesDealDetail";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestConflictCheckImplSecuritiesDealDetailFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((TestConflictCheckImpl) _obj).isSecuritiesDealDetailModifiedSinceDetachment();
+		}
+
+		protected TestSecuritiesDealDetailImpl plainValueOf(TestConflictCheckImpl _obj)
+		{
+			return _obj.getSecuritiesDealDetail();
+		}
+
+		protected TestSecuritiesDealDetailImplList plainListValueOf(Object _obj)
+		{
+			return ((TestConflictCheckImplList)_obj).getSecuritiesDealDetails();
+		}
+	}
+
+	public static TestBankingDealDetailImplFinder.TestBankingDealDetailImplSingleFinderForRelatedClasses<TestConflictCheckImpl, TestBankingDealDetailImpl, TestConflictCheckImpl> bankingDealDetail()
+	{
+		return finder.bankingDealDetail();
+	}
+
+	public static class TestConflictCheckImplBankingDealDetailFinderSubclass<ParentOwnerType> extends TestBankingDealDetailImplFinder.TestBankingDealDetailImplSingleFinderForRelatedClasses<ParentOwnerType, TestBankingDealDetailImpl, TestConflictCheckImpl>
+	{
+		public TestConflictCheckImplBankingDealDetailFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "bankingDealDetail";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestConflictCheckImplBankingDealDetailFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((TestConflictCheckImpl) _obj).isBankingDealDetailModifiedSinceDetachment();
+		}
+
+		protected TestBankingDealDetailImpl plainValueOf(TestConflictCheckImpl _obj)
+		{
+			return _obj.getBankingDealDetail();
+		}
+
+		protected TestBankingDealDetailImplList plainListValueOf(Object _obj)
+		{
+			return ((TestConflictCheckImplList)_obj).getBankingDealDetails();
+		}
+	}
+
+	public static Operation eq(TestConflictCheckImpl other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static TestConflictCheckImplSingleFinder<TestConflictCheckImpl, Object, TestConflictCheckImpl> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestConflictCheckImpl");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,158 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestConflictCheckImplListAbstract extends DelegatingList<TestConflictCheckImpl> implements MithraTransactionalList<TestConflictCheckImpl>
+{
+	public TestConflictCheckImplListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestConflictCheckImplListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestConflictCheckImplListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestConflictCheckImplListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestConflictCheckImpl[] elements()
+	{
+		TestConflictCheckImpl[] result = new TestConflictCheckImpl[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestConflictCheckImplList intersection(TestConflictCheckImplList another)
+	{
+		return (TestConflictCheckImplList)super.intersection(another);
+	}
+
+	public TestConflictCheckImpl getTestConflictCheckImplAt(int index)
+	{
+		return (TestConflictCheckImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = TestSecuritiesDealDetailImpl.checkId</pre>
+	* @see TestSecuritiesDealDetailImpl#getConflictCheck() reverse relationship TestSecuritiesDealDetailImpl.getConflictCheck()
+	* @return The securities deal detail
+	*/
+	public TestSecuritiesDealDetailImplList getSecuritiesDealDetails()
+	{
+		return (TestSecuritiesDealDetailImplList) this.zGetDelegated().resolveRelationship(this, TestConflictCheckImplFinder.securitiesDealDetail());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = TestBankingDealDetailImpl.checkId</pre>
+	* @see TestBankingDealDetailImpl#getConflictCheck() reverse relationship TestBankingDealDetailImpl.getConflictCheck()
+	* @return The banking deal detail
+	*/
+	public TestBankingDealDetailImplList getBankingDealDetails()
+	{
+		return (TestBankingDealDetailImplList) this.zGetDelegated().resolveRelationship(this, TestConflictCheckImplFinder.bankingDealDetail());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestConflictCheckImplFinder.getMithraObjectPortal();
+	}
+
+	public TestConflictCheckImplList getNonPersistentCopy()
+	{
+		TestConflictCheckImplList result = new TestConflictCheckImplList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestConflictCheckImplList asAdhoc()
+	{
+		return (TestConflictCheckImplList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestConflictCheckImpl> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestConflictCheckImplList merge(MithraTransactionalList<TestConflictCheckImpl> incoming, TopLevelMergeOptions<TestConflictCheckImpl> mergeOptions)
+	{
+		return (TestConflictCheckImplList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestConflictCheckImplList getDetachedCopy()
+	{
+		TestConflictCheckImplList result = new TestConflictCheckImplList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(TestConflictCheckImplFinder.id(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getSecuritiesDealDetails()).cascadeDeleteAll();
+		((DelegatingList)this.getBankingDealDetails()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,1334 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestControlledEntryData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 66;
+	boolean isApproveOverrideFlagNull();
+	boolean isApproveOverrideFlag();
+	void setApproveOverrideFlag(boolean value);
+	void setApproveOverrideFlagNull();
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isControlledEntryIdNull();
+	long getControlledEntryId();
+	void setControlledEntryId(long value);
+	void setControlledEntryIdNull();
+	boolean isCreateByNull();
+	String getCreateBy();
+	void setCreateBy(String value);
+	void setCreateByNull();
+	int zGetCreateByAsInt();
+	boolean isMnpiTypeNull();
+	String getMnpiType();
+	void setMnpiType(String value);
+	void setMnpiTypeNull();
+	int zGetMnpiTypeAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isQuietPeriodLengthNull();
+	int getQuietPeriodLength();
+	void setQuietPeriodLength(int value);
+	void setQuietPeriodLengthNull();
+	boolean isUpdateByNull();
+	String getUpdateBy();
+	void setUpdateBy(String value);
+	void setUpdateByNull();
+	int zGetUpdateByAsInt();
+	boolean zGetIsControlledEntryIdSet();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getRestrictedEntities();
+	void setRestrictedEntities(Object related);
+	public class TestControlledEntryDataOnHeap implements TestControlledEntryData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private boolean approveOverrideFlag;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private long controlledEntryId;
+		private String createBy;
+		private String mnpiType;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int quietPeriodLength;
+		private String updateBy;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isControlledEntryIdNull()
+		{
+			return false;
+		}
+
+		public boolean isCreateByNull()
+		{
+			return this.getCreateBy() == null;
+		}
+
+		public boolean isMnpiTypeNull()
+		{
+			return this.getMnpiType() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return this.getUpdateBy() == null;
+		}
+
+		public boolean isApproveOverrideFlagNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isQuietPeriodLengthNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeBoolean(this.approveOverrideFlag);
+			MithraTimestamp.writeTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.businessDateTo, TestControlledEntryFinder.businessDate().getInfinityDate());
+			out.writeLong(this.controlledEntryId);
+			out.writeBoolean(_isControlledEntryIdSet);
+			out.writeObject(this.createBy);
+			out.writeObject(this.mnpiType);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, TestControlledEntryFinder.processingDate().getInfinityDate());
+			out.writeInt(this.quietPeriodLength);
+			out.writeObject(this.updateBy);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public boolean isApproveOverrideFlag()
+		{
+			return this.approveOverrideFlag;
+		}
+
+		public void setApproveOverrideFlag(boolean value)
+		{
+			this.approveOverrideFlag = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getControlledEntryId()
+		{
+			return this.controlledEntryId;
+		}
+
+		public void setControlledEntryId(long value)
+		{
+			this.controlledEntryId = value;
+			_isControlledEntryIdSet = true;
+		}
+
+		public void setControlledEntryIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCreateBy()
+		{
+			return this.createBy;
+		}
+
+		public int zGetCreateByAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(createBy);
+		}
+
+		public void setCreateBy(String value)
+		{
+			this.createBy = StringPool.getInstance().getOrAddToCache(value, TestControlledEntryFinder.isFullCache());
+		}
+
+		public void setCreateByNull()
+		{
+			this.setCreateBy(null);
+		}
+
+		public String getMnpiType()
+		{
+			return this.mnpiType;
+		}
+
+		public int zGetMnpiTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(mnpiType);
+		}
+
+		public void setMnpiType(String value)
+		{
+			this.mnpiType = StringPool.getInstance().getOrAddToCache(value, TestControlledEntryFinder.isFullCache());
+		}
+
+		public void setMnpiTypeNull()
+		{
+			this.setMnpiType(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getQuietPeriodLength()
+		{
+			return this.quietPeriodLength;
+		}
+
+		public void setQuietPeriodLength(int value)
+		{
+			this.quietPeriodLength = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public String getUpdateBy()
+		{
+			return this.updateBy;
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(updateBy);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			this.updateBy = StringPool.getInstance().getOrAddToCache(value, TestControlledEntryFinder.isFullCache());
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public void setApproveOverrideFlagNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setQuietPeriodLengthNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public boolean _isControlledEntryIdSet;
+		public boolean zGetIsControlledEntryIdSet()
+		{
+			return _isControlledEntryIdSet;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestControlledEntryDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.approveOverrideFlag = this.approveOverrideFlag;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.controlledEntryId = this.controlledEntryId;
+			copy.createBy = this.createBy;
+			copy.mnpiType = this.mnpiType;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.quietPeriodLength = this.quietPeriodLength;
+			copy.updateBy = this.updateBy;
+			copy._isControlledEntryIdSet = this._isControlledEntryIdSet;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.approveOverrideFlag = in.readBoolean();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestControlledEntryFinder.businessDate().getInfinityDate()), TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+			this.controlledEntryId = in.readLong();
+			_isControlledEntryIdSet = in.readBoolean();
+			this.createBy = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestControlledEntryFinder.isFullCache());
+			this.mnpiType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestControlledEntryFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestControlledEntryFinder.processingDate().getInfinityDate()), TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+			this.quietPeriodLength = in.readInt();
+			this.updateBy = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestControlledEntryFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestControlledEntryData otherData = (TestControlledEntryData) other;
+			if (getControlledEntryId() != otherData.getControlledEntryId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.businessDateTo, TestControlledEntryFinder.businessDate().getInfinityDate());
+			out.writeLong(this.controlledEntryId);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, TestControlledEntryFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestControlledEntryFinder.businessDate().getInfinityDate()), TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+			this.controlledEntryId = in.readLong();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestControlledEntryFinder.processingDate().getInfinityDate()), TestControlledEntryFinder.isFullCache(), TestControlledEntryFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getRestrictedEntities()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setRestrictedEntities(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestControlledEntryDataOffHeap data = new TestControlledEntryDataOffHeap();
+			data.setApproveOverrideFlag(this.isApproveOverrideFlag());
+			if (this.isApproveOverrideFlagNull()) data.setApproveOverrideFlagNull();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setControlledEntryId(this.getControlledEntryId());
+			data.setCreateBy(this.getCreateBy());
+			data.setMnpiType(this.getMnpiType());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setQuietPeriodLength(this.getQuietPeriodLength());
+			if (this.isQuietPeriodLengthNull()) data.setQuietPeriodLengthNull();
+			data.setUpdateBy(this.getUpdateBy());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestControlledEntryData testControlledEntryData = (TestControlledEntryData) newData;
+			this.setApproveOverrideFlag(testControlledEntryData.isApproveOverrideFlag());
+			if (testControlledEntryData.isApproveOverrideFlagNull()) this.setApproveOverrideFlagNull();
+			this.setBusinessDateFrom(testControlledEntryData.getBusinessDateFrom());
+			this.setBusinessDateTo(testControlledEntryData.getBusinessDateTo());
+			this.setCreateBy(testControlledEntryData.getCreateBy());
+			this.setMnpiType(testControlledEntryData.getMnpiType());
+			this.setProcessingDateFrom(testControlledEntryData.getProcessingDateFrom());
+			this.setProcessingDateTo(testControlledEntryData.getProcessingDateTo());
+			this.setQuietPeriodLength(testControlledEntryData.getQuietPeriodLength());
+			if (testControlledEntryData.isQuietPeriodLengthNull()) this.setQuietPeriodLengthNull();
+			this.setUpdateBy(testControlledEntryData.getUpdateBy());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestControlledEntryData other = (TestControlledEntryData) newData;
+			if ( isApproveOverrideFlagNull() != other.isApproveOverrideFlagNull() || isApproveOverrideFlag() != other.isApproveOverrideFlag())
+			{
+				return true;
+			}
+
+			if (!isCreateByNull() ? !getCreateBy().equals(other.getCreateBy()) : !other.isCreateByNull())
+			{
+				return true;
+			}
+
+			if (!isMnpiTypeNull() ? !getMnpiType().equals(other.getMnpiType()) : !other.isMnpiTypeNull())
+			{
+				return true;
+			}
+
+			if ( isQuietPeriodLengthNull() != other.isQuietPeriodLengthNull() || getQuietPeriodLength() != other.getQuietPeriodLength())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestControlledEntryDataOnHeap copy = new TestControlledEntryDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestControlledEntryDataOnHeap copy = new TestControlledEntryDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "controlledEntryId: "+(""+getControlledEntryId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestControlledEntryData otherData = (TestControlledEntryData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestControlledEntryData otherData = (TestControlledEntryData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestControlledEntryData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestControlledEntryFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestControlledEntryFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestControlledEntryData";
+		}
+	}
+
+	public class TestControlledEntryDataOffHeap extends MithraOffHeapDataObject implements TestControlledEntryData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestControlledEntryDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 17);
+			this.zSetTimestamp(_storage, value, 25);
+			this.zSetTimestamp(_storage, value, 41);
+			this.zSetTimestamp(_storage, value, 49);
+		}
+
+		public TestControlledEntryDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isApproveOverrideFlagNull()
+		{
+			return zIsBooleanNull(_storage, 16);
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 17);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 25);
+		}
+
+		public boolean isControlledEntryIdNull()
+		{
+			return false;
+		}
+
+		public boolean isCreateByNull()
+		{
+			return zIsStringNull(_storage, 33);
+		}
+
+		public boolean isMnpiTypeNull()
+		{
+			return zIsStringNull(_storage, 37);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 41);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 49);
+		}
+
+		public boolean isQuietPeriodLengthNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return zIsStringNull(_storage, 61);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeBoolean(this.isApproveOverrideFlag());
+			MithraTimestamp.writeTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestControlledEntryFinder.businessDate().getInfinityDate());
+			out.writeLong(this.getControlledEntryId());
+			out.writeBoolean(true);
+			out.writeObject(this.getCreateBy());
+			out.writeObject(this.getMnpiType());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestControlledEntryFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getQuietPeriodLength());
+			out.writeObject(this.getUpdateBy());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isApproveOverrideFlagNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isQuietPeriodLengthNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public boolean isApproveOverrideFlag()
+		{
+			return zGetBoolean(_storage, 16);
+		}
+
+		public void setApproveOverrideFlag(boolean value)
+		{
+			zSetBoolean(_storage, value, 16);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 17);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 17);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 17);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 25);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 25);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 25);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getControlledEntryId()
+		{
+			return zGetLong(_storage, 8);
+		}
+
+		public void setControlledEntryId(long value)
+		{
+			zSetLong(_storage, value, 8, -1, -1);
+		}
+
+		public void setControlledEntryIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getCreateBy()
+		{
+			return zGetString(_storage, 33);
+		}
+
+		public int zGetCreateByAsInt()
+		{
+			return zGetInteger(_storage, 33);
+		}
+
+		public void setCreateBy(String value)
+		{
+			zSetString(_storage, value, 33);
+		}
+
+		public void setCreateByNull()
+		{
+			this.setCreateBy(null);
+		}
+
+		public String getMnpiType()
+		{
+			return zGetString(_storage, 37);
+		}
+
+		public int zGetMnpiTypeAsInt()
+		{
+			return zGetInteger(_storage, 37);
+		}
+
+		public void setMnpiType(String value)
+		{
+			zSetString(_storage, value, 37);
+		}
+
+		public void setMnpiTypeNull()
+		{
+			this.setMnpiType(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 41);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 41);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 41);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 49);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 49);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 49);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getQuietPeriodLength()
+		{
+			return zGetInteger(_storage, 57);
+		}
+
+		public void setQuietPeriodLength(int value)
+		{
+			zSetInteger(_storage, value, 57, 4, 0);
+		}
+
+		public String getUpdateBy()
+		{
+			return zGetString(_storage, 61);
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return zGetInteger(_storage, 61);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			zSetString(_storage, value, 61);
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public void setApproveOverrideFlagNull()
+		{
+			zSetBooleanNull(_storage, 16);
+		}
+
+		public void setQuietPeriodLengthNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public boolean zGetIsControlledEntryIdSet()
+		{
+			return true;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestControlledEntryDataOnHeap copy, boolean withRelationships)
+		{
+			copy.approveOverrideFlag = this.isApproveOverrideFlag();
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.controlledEntryId = this.getControlledEntryId();
+			copy.createBy = this.getCreateBy();
+			copy.mnpiType = this.getMnpiType();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.quietPeriodLength = this.getQuietPeriodLength();
+			copy.updateBy = this.getUpdateBy();
+			if (isApproveOverrideFlagNull())
+			{
+				copy.setApproveOverrideFlagNull();
+			}
+
+			if (isQuietPeriodLengthNull())
+			{
+				copy.setQuietPeriodLengthNull();
+			}
+
+			copy._isControlledEntryIdSet = true;
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetBoolean(_storage, in.readBoolean(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 17);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 25);
+			zSetLong(_storage, in.readLong(), 8, -1, -1, false);
+			in.readBoolean();
+			zSetString(_storage, (String)in.readObject(), 33);
+			zSetString(_storage, (String)in.readObject(), 37);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 41);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 49);
+			zSetInteger(_storage, in.readInt(), 57, 4, 0, (isNullBits0 & 1 << 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 61);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestControlledEntryDataOffHeap)
+			{
+				final TestControlledEntryDataOffHeap otherData = (TestControlledEntryDataOffHeap) other;
+				if (this.zGetLong(_storage, 8) != otherData.zGetLong(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestControlledEntryData otherData = (TestControlledEntryData) other;
+			if (getControlledEntryId() != otherData.getControlledEntryId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestControlledEntryFinder.businessDate().getInfinityDate());
+			out.writeLong(this.getControlledEntryId());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestControlledEntryFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 17);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 25);
+			zSetLong(_storage, in.readLong(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 41);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 49);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getRestrictedEntities()
+		{
+			return null;
+		}
+
+		public void setRestrictedEntities(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestControlledEntryData testControlledEntryData = (TestControlledEntryData) newData;
+			this.setApproveOverrideFlag(testControlledEntryData.isApproveOverrideFlag());
+			if (testControlledEntryData.isApproveOverrideFlagNull()) this.setApproveOverrideFlagNull();
+			this.setBusinessDateFrom(testControlledEntryData.getBusinessDateFrom());
+			this.setBusinessDateTo(testControlledEntryData.getBusinessDateTo());
+			this.setCreateBy(testControlledEntryData.getCreateBy());
+			this.setMnpiType(testControlledEntryData.getMnpiType());
+			this.setProcessingDateFrom(testControlledEntryData.getProcessingDateFrom());
+			this.setProcessingDateTo(testControlledEntryData.getProcessingDateTo());
+			this.setQuietPeriodLength(testControlledEntryData.getQuietPeriodLength());
+			if (testControlledEntryData.isQuietPeriodLengthNull()) this.setQuietPeriodLengthNull();
+			this.setUpdateBy(testControlledEntryData.getUpdateBy());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestControlledEntryData other = (TestControlledEntryData) newData;
+			if ( isApproveOverrideFlagNull() != other.isApproveOverrideFlagNull() || isApproveOverrideFlag() != other.isApproveOverrideFlag())
+			{
+				return true;
+			}
+
+			if (!isCreateByNull() ? !getCreateBy().equals(other.getCreateBy()) : !other.isCreateByNull())
+			{
+				return true;
+			}
+
+			if (!isMnpiTypeNull() ? !getMnpiType().equals(other.getMnpiType()) : !other.isMnpiTypeNull())
+			{
+				return true;
+			}
+
+			if ( isQuietPeriodLengthNull() != other.isQuietPeriodLengthNull() || getQuietPeriodLength() != other.getQuietPeriodLength())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestControlledEntryDataOnHeap copy = new TestControlledEntryDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestControlledEntryDataOnHeap copy = new TestControlledEntryDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "controlledEntryId: "+(""+getControlledEntryId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestControlledEntryData otherData = (TestControlledEntryData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestControlledEntryData otherData = (TestControlledEntryData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestControlledEntryData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestControlledEntryFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestControlledEntryFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestControlledEntryData";
+		}
+	}
+}
@@ -0,0 +1,448 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestDatedTableForAllSubclassesWithGenerateInterfaceDatabaseObjectAbstract extends MithraAbstractDatedDatabaseObject implements MithraDatabaseObject, MithraDatedObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "USERID,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.USERID,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.OBJECTID = ?";
+	private static final String PK_INDEX_COLS = "OBJECTID";
+	protected TestDatedTableForAllSubclassesWithGenerateInterfaceDatabaseObjectAbstract()
+	{
+		super("TestDatedTableForAllSubclassesWithGenerateInterface", "com.gs.fw.common.mithra.test.domain.TestDatedTableForAllSubclassesWithGenerateInterfaceFinder",
+			6, 6,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getFinderInstance();
+	}
+
+	public static TestDatedTableForAllSubclassesWithGenerateInterfaceData allocateOnHeapData()
+	{
+		return new TestDatedTableForAllSubclassesWithGenerateInterfaceData.TestDatedTableForAllSubclassesWithGenerateInterfaceDataOnHeap();
+	}
+
+	public static TestDatedTableForAllSubclassesWithGenerateInterfaceData allocateOffHeapData()
+	{
+		return new TestDatedTableForAllSubclassesWithGenerateInterfaceData.TestDatedTableForAllSubclassesWithGenerateInterfaceDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestDatedTableForAllSubclassesWithGenerateInterfaceData.TestDatedTableForAllSubclassesWithGenerateInterfaceDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestDatedTableForAllSubclassesWithGenerateInterfaceData data = new TestDatedTableForAllSubclassesWithGenerateInterfaceData.TestDatedTableForAllSubclassesWithGenerateInterfaceDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestDatedTableForAllSubclassesWithGenerateInterfaceData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestDatedTableForAllSubclassesWithGenerateInterface", TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("TestDatedTableForAllSubclassesWithGenerateInterface"));
+			TestDatedTableForAllSubclassesWithGenerateInterfaceData.TestDatedTableForAllSubclassesWithGenerateInterfaceDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapFullDatedCache(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getPrimaryKeyAttributes(), TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getAsOfAttributes(), this, TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getImmutableAttributes(), dataStorage);
+		}
+		else
+		{
+			result = new FullDatedCache(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getPrimaryKeyAttributes(), TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getAsOfAttributes(), this, TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getImmutableAttributes());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestDatedTableForAllSubclassesWithGenerateInterfaceData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestDatedTableForAllSubclassesWithGenerateInterface", TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			TestDatedTableForAllSubclassesWithGenerateInterfaceData.TestDatedTableForAllSubclassesWithGenerateInterfaceDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getPrimaryKeyAttributes(), TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getAsOfAttributes(), this, TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getPrimaryKeyAttributes(), TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getAsOfAttributes(), this, TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestDatedTableForAllSubclassesWithGenerateInterfaceData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestDatedTableForAllSubclassesWithGenerateInterfaceData(1, (TestDatedTableForAllSubclassesWithGenerateInterfaceData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestDatedTableForAllSubclassesWithGenerateInterfacePkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestDatedTableForAllSubclassesWithGenerateInterfaceTableName();
+	}
+
+	public String getTestDatedTableForAllSubclassesWithGenerateInterfaceTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestDatedTableForAllSubclassesWithGenerateInterfaceData data = (TestDatedTableForAllSubclassesWithGenerateInterfaceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getObjectId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "OBJECTID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.OBJECTID,t0.USERID,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*6);
+		result.append(databaseAlias).append(".").append("OBJECTID");
+		result.append(",").append(databaseAlias).append(".").append("USERID");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestDatedTableForAllSubclassesWithGenerateInterfaceData inflateTestDatedTableForAllSubclassesWithGenerateInterfaceData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestDatedTableForAllSubclassesWithGenerateInterfaceData data = inflateTestDatedTableForAllSubclassesWithGenerateInterfacePkData(rs, dt);
+		inflateNonPkTestDatedTableForAllSubclassesWithGenerateInterfaceData(2, data, rs, dt);
+		return data;
+	}
+
+	public TestDatedTableForAllSubclassesWithGenerateInterfaceData inflateTestDatedTableForAllSubclassesWithGenerateInterfacePkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestDatedTableForAllSubclassesWithGenerateInterfaceData _data = new TestDatedTableForAllSubclassesWithGenerateInterfaceData.TestDatedTableForAllSubclassesWithGenerateInterfaceDataOnHeap();
+		int _pos = 1;
+		_data.setObjectId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "objectId");
+		return _data;
+	}
+
+	public void inflateNonPkTestDatedTableForAllSubclassesWithGenerateInterfaceData(int _pos, TestDatedTableForAllSubclassesWithGenerateInterfaceData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestDatedTableForAllSubclassesWithGenerateInterfaceData _data = _datax;
+			_data.setUserId(trimString(_rs.getString(_pos++)));
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTestDatedTableForAllSubclassesWithGenerateInterfaceTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TEST_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TestDatedTableForAllSubclassesWithGenerateInterfaceImpl newObject = constructTestDatedTableForAllSubclassesWithGenerateInterfaceImpl(data, asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromTestDatedTableForAllSubclassesWithGenerateInterfaceData((TestDatedTableForAllSubclassesWithGenerateInterfaceData) data);
+		return newObject;
+	}
+
+	protected abstract TestDatedTableForAllSubclassesWithGenerateInterfaceImpl constructTestDatedTableForAllSubclassesWithGenerateInterfaceImpl(MithraDataObject data,
+		Timestamp businessDate
+	, Timestamp processingDate
+	);
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_Z = ?";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestDatedTableForAllSubclassesWithGenerateInterfaceData data = (TestDatedTableForAllSubclassesWithGenerateInterfaceData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getObjectId());
+		return pos;
+	}
+}
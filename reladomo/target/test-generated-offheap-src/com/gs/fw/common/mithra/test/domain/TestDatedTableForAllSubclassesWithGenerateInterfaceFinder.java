@@ -0,0 +1,749 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestDatedTableForAllSubclassesWithGenerateInterfaceFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestDatedTableForAllSubclassesWithGenerateInterfaceImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestDatedTableForAllSubclassesWithGenerateInterface";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestDatedTableForAllSubclassesWithGenerateInterface");
+	private static final TestDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<TestDatedTableForAllSubclassesWithGenerateInterface, Object, TestDatedTableForAllSubclassesWithGenerateInterface> finder = new TestDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<TestDatedTableForAllSubclassesWithGenerateInterface, Object, TestDatedTableForAllSubclassesWithGenerateInterface>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.TestDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("objectId");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestDatedTableForAllSubclassesWithGenerateInterface findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestDatedTableForAllSubclassesWithGenerateInterface findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestDatedTableForAllSubclassesWithGenerateInterfaceList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestDatedTableForAllSubclassesWithGenerateInterfaceListImpl) finder.findMany(operation);
+	}
+
+	public static TestDatedTableForAllSubclassesWithGenerateInterfaceList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestDatedTableForAllSubclassesWithGenerateInterfaceListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static TestDatedTableForAllSubclassesWithGenerateInterface findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestDatedTableForAllSubclassesWithGenerateInterfaceImpl) FinderUtils.findOne(found);
+	}
+
+	public static TestDatedTableForAllSubclassesWithGenerateInterface findByPrimaryKey(long objectId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(objectId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestDatedTableForAllSubclassesWithGenerateInterfaceData _castedTargetData = (TestDatedTableForAllSubclassesWithGenerateInterfaceData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getObjectId())
+			{
+				return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static TestDatedTableForAllSubclassesWithGenerateInterfaceImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestDatedTableForAllSubclassesWithGenerateInterfaceImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestDatedTableForAllSubclassesWithGenerateInterface, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> objectId;
+		private StringAttribute<ParentOwnerType> userId;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder()
+		{
+			super();
+		}
+
+		public TestDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestDatedTableForAllSubclassesWithGenerateInterfaceFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.objectId();
+			attributes[1] = this.userId();
+			attributes[2] = this.businessDateFrom();
+			attributes[3] = this.businessDateTo();
+			attributes[4] = this.processingDateFrom();
+			attributes[5] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestDatedTableForAllSubclassesWithGenerateInterface findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.findOne(operation, false);
+		}
+
+		public TestDatedTableForAllSubclassesWithGenerateInterface findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestDatedTableForAllSubclassesWithGenerateInterface> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestDatedTableForAllSubclassesWithGenerateInterfaceListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends TestDatedTableForAllSubclassesWithGenerateInterface> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestDatedTableForAllSubclassesWithGenerateInterfaceListImpl result = (TestDatedTableForAllSubclassesWithGenerateInterfaceListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestDatedTableForAllSubclassesWithGenerateInterface> constructEmptyList()
+		{
+			return new TestDatedTableForAllSubclassesWithGenerateInterfaceListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 917813386;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> objectId()
+		{
+			LongAttribute<ParentOwnerType> result = this.objectId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("OBJECTID","","objectId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,false,4,-1,-1,false, false) :
+					new MappedLongAttribute(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.objectId(), this.mapper, this.zGetValueSelector());
+				this.objectId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> userId()
+		{
+			StringAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("USERID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,44,-1,-1,40,true, false) :
+					new MappedStringAttribute(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,36,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDateInfinity,false,true,TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDateInfinity,false,true,TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestDatedTableForAllSubclassesWithGenerateInterfaceFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder<ParentOwnerType, ReturnType, TestDatedTableForAllSubclassesWithGenerateInterfaceList, OwnerType>
+	{
+		public TestDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder<ParentOwnerType, ReturnType, TestDatedTableForAllSubclassesWithGenerateInterfaceList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestDatedTableForAllSubclassesWithGenerateInterface other)
+		{
+			return this.objectId().eq(other.getObjectId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestDatedTableForAllSubclassesWithGenerateInterface findByPrimaryKey(long objectId, Timestamp businessDate, Timestamp processingDate)
+		{
+			TestDatedTableForAllSubclassesWithGenerateInterface _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(objectId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestDatedTableForAllSubclassesWithGenerateInterface) _related;
+			if (_related == null)
+			{
+				_op = this.objectId().eq(objectId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestDatedTableForAllSubclassesWithGenerateInterfaceSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestDatedTableForAllSubclassesWithGenerateInterfaceSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TEST_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE.OBJECTID **/
+	public static LongAttribute<TestDatedTableForAllSubclassesWithGenerateInterface> objectId()
+	{
+		return finder.objectId();
+	}
+
+	/** maps to TEST_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE.USERID **/
+	public static StringAttribute<TestDatedTableForAllSubclassesWithGenerateInterface> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to TEST_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE.FROM_Z **/
+	public static TimestampAttribute<TestDatedTableForAllSubclassesWithGenerateInterface> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TEST_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE.THRU_Z **/
+	public static TimestampAttribute<TestDatedTableForAllSubclassesWithGenerateInterface> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to TEST_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE.IN_Z **/
+	public static TimestampAttribute<TestDatedTableForAllSubclassesWithGenerateInterface> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TEST_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE.OUT_Z **/
+	public static TimestampAttribute<TestDatedTableForAllSubclassesWithGenerateInterface> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<TestDatedTableForAllSubclassesWithGenerateInterface> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TestDatedTableForAllSubclassesWithGenerateInterface> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(TestDatedTableForAllSubclassesWithGenerateInterface other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(objectId());
+	}
+
+	public static TestDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<TestDatedTableForAllSubclassesWithGenerateInterface, Object, TestDatedTableForAllSubclassesWithGenerateInterface> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			objectId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			objectId()
+			, objectId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestDatedTableForAllSubclassesWithGenerateInterface");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,1276 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegment;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentAbstract;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentData;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentFinder;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestEodAcctIfPnlData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 64;
+	boolean isAccountIdNull();
+	String getAccountId();
+	void setAccountId(String value);
+	void setAccountIdNull();
+	int zGetAccountIdAsInt();
+	boolean isAllocationNull();
+	double getAllocation();
+	void setAllocation(double value);
+	void setAllocationNull();
+	boolean isBalanceNull();
+	double getBalance();
+	void setBalance(double value);
+	void setBalanceNull();
+	boolean isBalanceTypeNull();
+	int getBalanceType();
+	void setBalanceType(int value);
+	void setBalanceTypeNull();
+	boolean isBusinessDateNull();
+	Timestamp getBusinessDate();
+	void setBusinessDate(Timestamp value);
+	void setBusinessDateNull();
+	long zGetBusinessDateAsLong();
+	boolean isIfCodeNull();
+	String getIfCode();
+	void setIfCode(String value);
+	void setIfCodeNull();
+	int zGetIfCodeAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isUserIdNull();
+	String getUserId();
+	void setUserId(String value);
+	void setUserIdNull();
+	int zGetUserIdAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getUpdatedBalancesOnOtherDate();
+	void setUpdatedBalancesOnOtherDate(Object related);
+	Object getAcctEntitySegmentImpl();
+	void setAcctEntitySegmentImpl(Object related);
+	public class TestEodAcctIfPnlDataOnHeap implements TestEodAcctIfPnlData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private String accountId;
+		private double allocation;
+		private double balance;
+		private int balanceType;
+		private Timestamp businessDate;
+		private String ifCode;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String userId;
+		public boolean isAccountIdNull()
+		{
+			return this.getAccountId() == null;
+		}
+
+		public boolean isBalanceTypeNull()
+		{
+			return false;
+		}
+
+		public boolean isBusinessDateNull()
+		{
+			return this.getBusinessDate() == null;
+		}
+
+		public boolean isIfCodeNull()
+		{
+			return this.getIfCode() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isUserIdNull()
+		{
+			return this.getUserId() == null;
+		}
+
+		public boolean isAllocationNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isBalanceNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.accountId);
+			out.writeDouble(this.allocation);
+			out.writeDouble(this.balance);
+			out.writeInt(this.balanceType);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+			out.writeObject(this.ifCode);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TestEodAcctIfPnlFinder.processingDate().getInfinityDate());
+			out.writeObject(this.userId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public String getAccountId()
+		{
+			return this.accountId;
+		}
+
+		public int zGetAccountIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountId);
+		}
+
+		public void setAccountId(String value)
+		{
+			this.accountId = StringPool.getInstance().getOrAddToCache(value, TestEodAcctIfPnlFinder.isFullCache());
+		}
+
+		public void setAccountIdNull()
+		{
+			this.setAccountId(null);
+		}
+
+		public double getAllocation()
+		{
+			return this.allocation;
+		}
+
+		public void setAllocation(double value)
+		{
+			this.allocation = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public double getBalance()
+		{
+			return this.balance;
+		}
+
+		public void setBalance(double value)
+		{
+			this.balance = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public int getBalanceType()
+		{
+			return this.balanceType;
+		}
+
+		public void setBalanceType(int value)
+		{
+			this.balanceType = value;
+		}
+
+		public void setBalanceTypeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getBusinessDate()
+		{
+			return this.businessDate;
+		}
+
+		public long zGetBusinessDateAsLong()
+		{
+			if (businessDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDate.getTime();
+		}
+
+		public void setBusinessDate(Timestamp value)
+		{
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(value, TestEodAcctIfPnlFinder.isFullCache(), TestEodAcctIfPnlFinder.isOffHeap());
+		}
+
+		public void setBusinessDateNull()
+		{
+			this.setBusinessDate(null);
+		}
+
+		public String getIfCode()
+		{
+			return this.ifCode;
+		}
+
+		public int zGetIfCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(ifCode);
+		}
+
+		public void setIfCode(String value)
+		{
+			this.ifCode = StringPool.getInstance().getOrAddToCache(value, TestEodAcctIfPnlFinder.isFullCache());
+		}
+
+		public void setIfCodeNull()
+		{
+			this.setIfCode(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestEodAcctIfPnlFinder.isFullCache(), TestEodAcctIfPnlFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestEodAcctIfPnlFinder.isFullCache(), TestEodAcctIfPnlFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUserId()
+		{
+			return this.userId;
+		}
+
+		public int zGetUserIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(userId);
+		}
+
+		public void setUserId(String value)
+		{
+			this.userId = StringPool.getInstance().getOrAddToCache(value, TestEodAcctIfPnlFinder.isFullCache());
+		}
+
+		public void setUserIdNull()
+		{
+			this.setUserId(null);
+		}
+
+		public void setAllocationNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setBalanceNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestEodAcctIfPnlDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.accountId = this.accountId;
+			copy.allocation = this.allocation;
+			copy.balance = this.balance;
+			copy.balanceType = this.balanceType;
+			copy.businessDate = this.businessDate;
+			copy.ifCode = this.ifCode;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.userId = this.userId;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[2];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestEodAcctIfPnlFinder.isFullCache());
+			this.allocation = in.readDouble();
+			this.balance = in.readDouble();
+			this.balanceType = in.readInt();
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestEodAcctIfPnlFinder.isFullCache(), TestEodAcctIfPnlFinder.isOffHeap());
+			this.ifCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestEodAcctIfPnlFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestEodAcctIfPnlFinder.isFullCache(), TestEodAcctIfPnlFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestEodAcctIfPnlFinder.processingDate().getInfinityDate()), TestEodAcctIfPnlFinder.isFullCache(), TestEodAcctIfPnlFinder.isOffHeap());
+			this.userId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestEodAcctIfPnlFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestEodAcctIfPnlData otherData = (TestEodAcctIfPnlData) other;
+			if (!isAccountIdNull() ? !getAccountId().equals(otherData.getAccountId()) : !otherData.isAccountIdNull())
+			{
+				return false;
+			}
+
+			if (getBalanceType() != otherData.getBalanceType())
+			{
+				return false;
+			}
+
+			if (!isBusinessDateNull() ? !getBusinessDate().equals(otherData.getBusinessDate()) : !otherData.isBusinessDateNull())
+			{
+				return false;
+			}
+
+			if (!isIfCodeNull() ? !getIfCode().equals(otherData.getIfCode()) : !otherData.isIfCodeNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.accountId);
+			out.writeInt(this.balanceType);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+			out.writeObject(this.ifCode);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TestEodAcctIfPnlFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestEodAcctIfPnlFinder.isFullCache());
+			this.balanceType = in.readInt();
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestEodAcctIfPnlFinder.isFullCache(), TestEodAcctIfPnlFinder.isOffHeap());
+			this.ifCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestEodAcctIfPnlFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestEodAcctIfPnlFinder.isFullCache(), TestEodAcctIfPnlFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestEodAcctIfPnlFinder.processingDate().getInfinityDate()), TestEodAcctIfPnlFinder.isFullCache(), TestEodAcctIfPnlFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getUpdatedBalancesOnOtherDate()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setUpdatedBalancesOnOtherDate(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getAcctEntitySegmentImpl()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setAcctEntitySegmentImpl(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestEodAcctIfPnlDataOffHeap data = new TestEodAcctIfPnlDataOffHeap();
+			data.setAccountId(this.getAccountId());
+			data.setAllocation(this.getAllocation());
+			if (this.isAllocationNull()) data.setAllocationNull();
+			data.setBalance(this.getBalance());
+			if (this.isBalanceNull()) data.setBalanceNull();
+			data.setBalanceType(this.getBalanceType());
+			data.setBusinessDate(this.getBusinessDate());
+			data.setIfCode(this.getIfCode());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setUserId(this.getUserId());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestEodAcctIfPnlData testEodAcctIfPnlData = (TestEodAcctIfPnlData) newData;
+			this.setAllocation(testEodAcctIfPnlData.getAllocation());
+			if (testEodAcctIfPnlData.isAllocationNull()) this.setAllocationNull();
+			this.setBalance(testEodAcctIfPnlData.getBalance());
+			if (testEodAcctIfPnlData.isBalanceNull()) this.setBalanceNull();
+			this.setProcessingDateFrom(testEodAcctIfPnlData.getProcessingDateFrom());
+			this.setProcessingDateTo(testEodAcctIfPnlData.getProcessingDateTo());
+			this.setUserId(testEodAcctIfPnlData.getUserId());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestEodAcctIfPnlData other = (TestEodAcctIfPnlData) newData;
+			if ( isAllocationNull() != other.isAllocationNull() || Math.abs(getAllocation() - other.getAllocation()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isBalanceNull() != other.isBalanceNull() || Math.abs(getBalance() - other.getBalance()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isUserIdNull() ? !getUserId().equals(other.getUserId()) : !other.isUserIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestEodAcctIfPnlDataOnHeap copy = new TestEodAcctIfPnlDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestEodAcctIfPnlDataOnHeap copy = new TestEodAcctIfPnlDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+			result += "balanceType: "+(""+getBalanceType())+ " / ";
+			result += "businessDate: "+(isBusinessDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getBusinessDate().getTime()))+ " / ";
+			result += "ifCode: "+"'"+getIfCode()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestEodAcctIfPnlData otherData = (TestEodAcctIfPnlData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestEodAcctIfPnlData otherData = (TestEodAcctIfPnlData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestEodAcctIfPnlFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestEodAcctIfPnlFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlData";
+		}
+	}
+
+	public class TestEodAcctIfPnlDataOffHeap extends MithraOffHeapDataObject implements TestEodAcctIfPnlData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestEodAcctIfPnlDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 44);
+			this.zSetTimestamp(_storage, value, 52);
+		}
+
+		public TestEodAcctIfPnlDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccountIdNull()
+		{
+			return zIsStringNull(_storage, 8);
+		}
+
+		public boolean isAllocationNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isBalanceNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isBalanceTypeNull()
+		{
+			return false;
+		}
+
+		public boolean isBusinessDateNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isIfCodeNull()
+		{
+			return zIsStringNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 44);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 52);
+		}
+
+		public boolean isUserIdNull()
+		{
+			return zIsStringNull(_storage, 60);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAccountId());
+			out.writeDouble(this.getAllocation());
+			out.writeDouble(this.getBalance());
+			out.writeInt(this.getBalanceType());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateAsLong());
+			out.writeObject(this.getIfCode());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestEodAcctIfPnlFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getUserId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isAllocationNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isBalanceNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public String getAccountId()
+		{
+			return zGetString(_storage, 8);
+		}
+
+		public int zGetAccountIdAsInt()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setAccountId(String value)
+		{
+			zSetString(_storage, value, 8);
+		}
+
+		public void setAccountIdNull()
+		{
+			this.setAccountId(null);
+		}
+
+		public double getAllocation()
+		{
+			return zGetDouble(_storage, 28);
+		}
+
+		public void setAllocation(double value)
+		{
+			zSetDouble(_storage, value, 28, 4, 0);
+		}
+
+		public double getBalance()
+		{
+			return zGetDouble(_storage, 36);
+		}
+
+		public void setBalance(double value)
+		{
+			zSetDouble(_storage, value, 36, 4, 1);
+		}
+
+		public int getBalanceType()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setBalanceType(int value)
+		{
+			zSetInteger(_storage, value, 12, -1, -1);
+		}
+
+		public void setBalanceTypeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getBusinessDate()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetBusinessDateAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setBusinessDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setBusinessDateNull()
+		{
+			this.setBusinessDate(null);
+		}
+
+		public String getIfCode()
+		{
+			return zGetString(_storage, 24);
+		}
+
+		public int zGetIfCodeAsInt()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setIfCode(String value)
+		{
+			zSetString(_storage, value, 24);
+		}
+
+		public void setIfCodeNull()
+		{
+			this.setIfCode(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 44);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 44);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 44);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 52);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 52);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 52);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUserId()
+		{
+			return zGetString(_storage, 60);
+		}
+
+		public int zGetUserIdAsInt()
+		{
+			return zGetInteger(_storage, 60);
+		}
+
+		public void setUserId(String value)
+		{
+			zSetString(_storage, value, 60);
+		}
+
+		public void setUserIdNull()
+		{
+			this.setUserId(null);
+		}
+
+		public void setAllocationNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public void setBalanceNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestEodAcctIfPnlDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountId = this.getAccountId();
+			copy.allocation = this.getAllocation();
+			copy.balance = this.getBalance();
+			copy.balanceType = this.getBalanceType();
+			copy.businessDate = this.getBusinessDate();
+			copy.ifCode = this.getIfCode();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.userId = this.getUserId();
+			if (isAllocationNull())
+			{
+				copy.setAllocationNull();
+			}
+
+			if (isBalanceNull())
+			{
+				copy.setBalanceNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetDouble(_storage, in.readDouble(), 28, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetDouble(_storage, in.readDouble(), 36, 4, 1, (isNullBits0 & 1 << 1) != 0 );
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetString(_storage, (String)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 44);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 52);
+			zSetString(_storage, (String)in.readObject(), 60);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestEodAcctIfPnlDataOffHeap)
+			{
+				final TestEodAcctIfPnlDataOffHeap otherData = (TestEodAcctIfPnlDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				if (this.zGetLong(_storage, 16) != otherData.zGetLong(_storage, 16))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 24) != otherData.zGetInteger(_storage, 24))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestEodAcctIfPnlData otherData = (TestEodAcctIfPnlData) other;
+			if (!isAccountIdNull() ? !getAccountId().equals(otherData.getAccountId()) : !otherData.isAccountIdNull())
+			{
+				return false;
+			}
+
+			if (getBalanceType() != otherData.getBalanceType())
+			{
+				return false;
+			}
+
+			if (!isBusinessDateNull() ? !getBusinessDate().equals(otherData.getBusinessDate()) : !otherData.isBusinessDateNull())
+			{
+				return false;
+			}
+
+			if (!isIfCodeNull() ? !getIfCode().equals(otherData.getIfCode()) : !otherData.isIfCodeNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeObject(this.getAccountId());
+			out.writeInt(this.getBalanceType());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateAsLong());
+			out.writeObject(this.getIfCode());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestEodAcctIfPnlFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetString(_storage, (String)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 44);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 52);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getUpdatedBalancesOnOtherDate()
+		{
+			return null;
+		}
+
+		public void setUpdatedBalancesOnOtherDate(Object related)
+		{
+		}
+
+		public Object getAcctEntitySegmentImpl()
+		{
+			return null;
+		}
+
+		public void setAcctEntitySegmentImpl(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestEodAcctIfPnlData testEodAcctIfPnlData = (TestEodAcctIfPnlData) newData;
+			this.setAllocation(testEodAcctIfPnlData.getAllocation());
+			if (testEodAcctIfPnlData.isAllocationNull()) this.setAllocationNull();
+			this.setBalance(testEodAcctIfPnlData.getBalance());
+			if (testEodAcctIfPnlData.isBalanceNull()) this.setBalanceNull();
+			this.setProcessingDateFrom(testEodAcctIfPnlData.getProcessingDateFrom());
+			this.setProcessingDateTo(testEodAcctIfPnlData.getProcessingDateTo());
+			this.setUserId(testEodAcctIfPnlData.getUserId());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestEodAcctIfPnlData other = (TestEodAcctIfPnlData) newData;
+			if ( isAllocationNull() != other.isAllocationNull() || Math.abs(getAllocation() - other.getAllocation()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isBalanceNull() != other.isBalanceNull() || Math.abs(getBalance() - other.getBalance()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isUserIdNull() ? !getUserId().equals(other.getUserId()) : !other.isUserIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestEodAcctIfPnlDataOnHeap copy = new TestEodAcctIfPnlDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestEodAcctIfPnlDataOnHeap copy = new TestEodAcctIfPnlDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+			result += "balanceType: "+(""+getBalanceType())+ " / ";
+			result += "businessDate: "+(isBusinessDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getBusinessDate().getTime()))+ " / ";
+			result += "ifCode: "+"'"+getIfCode()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestEodAcctIfPnlData otherData = (TestEodAcctIfPnlData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestEodAcctIfPnlData otherData = (TestEodAcctIfPnlData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestEodAcctIfPnlFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestEodAcctIfPnlFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlData";
+		}
+	}
+}
@@ -0,0 +1,603 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegment;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentAbstract;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentData;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentFinder;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestEodAcctIfPnlDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ALLOCATION,BALANCE,USER_ID,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ALLOCATION,t0.BALANCE,t0.USER_ID,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ACCT_NBR_C = ? AND t0.IF_CODE_C = ? AND t0.BUS_DATE = ? AND t0.BALANCE_TYPE_ID = ?";
+	private static final String PK_INDEX_COLS = "ACCT_NBR_C,IF_CODE_C,BUS_DATE,BALANCE_TYPE_ID";
+	protected TestEodAcctIfPnlDatabaseObjectAbstract()
+	{
+		super("TestEodAcctIfPnl", "com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlFinder",
+			9, 9,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestEodAcctIfPnlFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestEodAcctIfPnlFinder.getFinderInstance();
+	}
+
+	public static TestEodAcctIfPnlData allocateOnHeapData()
+	{
+		return new TestEodAcctIfPnlData.TestEodAcctIfPnlDataOnHeap();
+	}
+
+	public static TestEodAcctIfPnlData allocateOffHeapData()
+	{
+		return new TestEodAcctIfPnlData.TestEodAcctIfPnlDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestEodAcctIfPnlData.TestEodAcctIfPnlDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestEodAcctIfPnlFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestEodAcctIfPnlData data = new TestEodAcctIfPnlData.TestEodAcctIfPnlDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestEodAcctIfPnlFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestEodAcctIfPnlData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnl", TestEodAcctIfPnlFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("TestEodAcctIfPnl"));
+			TestEodAcctIfPnlData.TestEodAcctIfPnlDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(TestEodAcctIfPnlFinder.getPrimaryKeyAttributes(), TestEodAcctIfPnlFinder.getAsOfAttributes(), this, TestEodAcctIfPnlFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(TestEodAcctIfPnlFinder.getPrimaryKeyAttributes(), TestEodAcctIfPnlFinder.getAsOfAttributes(), this, TestEodAcctIfPnlFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(TestEodAcctIfPnlFinder.getPrimaryKeyAttributes(), TestEodAcctIfPnlFinder.getAsOfAttributes(), this, TestEodAcctIfPnlFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(TestEodAcctIfPnlFinder.getPrimaryKeyAttributes(), TestEodAcctIfPnlFinder.getAsOfAttributes(), this, TestEodAcctIfPnlFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(TestEodAcctIfPnlFinder.getPrimaryKeyAttributes(), TestEodAcctIfPnlFinder.getAsOfAttributes(), this, TestEodAcctIfPnlFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestEodAcctIfPnlData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnl", TestEodAcctIfPnlFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			TestEodAcctIfPnlData.TestEodAcctIfPnlDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(TestEodAcctIfPnlFinder.getPrimaryKeyAttributes(), TestEodAcctIfPnlFinder.getAsOfAttributes(), this, TestEodAcctIfPnlFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(TestEodAcctIfPnlFinder.getPrimaryKeyAttributes(), TestEodAcctIfPnlFinder.getAsOfAttributes(), this, TestEodAcctIfPnlFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestEodAcctIfPnlFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestEodAcctIfPnlFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TestEodAcctIfPnl.zConfigFullTx();
+		}
+		else
+		{
+			TestEodAcctIfPnl.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestEodAcctIfPnlData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestEodAcctIfPnlData(1, (TestEodAcctIfPnlData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestEodAcctIfPnlPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestEodAcctIfPnlTableName();
+	}
+
+	public String getTestEodAcctIfPnlTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestEodAcctIfPnlData data = (TestEodAcctIfPnlData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (TestEodAcctIfPnlFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestEodAcctIfPnlData data = (TestEodAcctIfPnlData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getAccountId());
+		stm.setString(pos++, data.getIfCode());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		stm.setInt(pos++, data.getBalanceType());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TestEodAcctIfPnlFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (TestEodAcctIfPnlFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ACCT_NBR_C = ? AND IF_CODE_C = ? AND BUS_DATE = ? AND BALANCE_TYPE_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ACCT_NBR_C,t0.IF_CODE_C,t0.BUS_DATE,t0.BALANCE_TYPE_ID,t0.ALLOCATION,t0.BALANCE,t0.USER_ID,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*9);
+		result.append(databaseAlias).append(".").append("ACCT_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("IF_CODE_C");
+		result.append(",").append(databaseAlias).append(".").append("BUS_DATE");
+		result.append(",").append(databaseAlias).append(".").append("BALANCE_TYPE_ID");
+		result.append(",").append(databaseAlias).append(".").append("ALLOCATION");
+		result.append(",").append(databaseAlias).append(".").append("BALANCE");
+		result.append(",").append(databaseAlias).append(".").append("USER_ID");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestEodAcctIfPnlData inflateTestEodAcctIfPnlData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestEodAcctIfPnlData data = inflateTestEodAcctIfPnlPkData(rs, dt);
+		inflateNonPkTestEodAcctIfPnlData(5, data, rs, dt);
+		return data;
+	}
+
+	public TestEodAcctIfPnlData inflateTestEodAcctIfPnlPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestEodAcctIfPnlData _data = new TestEodAcctIfPnlData.TestEodAcctIfPnlDataOnHeap();
+		int _pos = 1;
+		_data.setAccountId(trimString(_rs.getString(_pos++)));
+		_data.setIfCode(trimString(_rs.getString(_pos++)));
+		Timestamp businessDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setBusinessDate(businessDatetimestampValue);
+		_data.setBalanceType(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "balanceType");
+		return _data;
+	}
+
+	public void inflateNonPkTestEodAcctIfPnlData(int _pos, TestEodAcctIfPnlData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestEodAcctIfPnlData _data = _datax;
+			_data.setAllocation(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAllocationNull();
+			}
+
+			_data.setBalance(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBalanceNull();
+			}
+
+			_data.setUserId(trimString(_rs.getString(_pos++)));
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TestEodAcctIfPnlFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTestEodAcctIfPnlTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "EOD_ACCT_IF_PNL";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TestEodAcctIfPnlData data = (TestEodAcctIfPnlData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isAccountIdNull())
+		{
+			throwNullAttribute("accountId");
+		}
+
+		stm.setString(pos++, data.getAccountId());
+		if(data.isIfCodeNull())
+		{
+			throwNullAttribute("ifCode");
+		}
+
+		stm.setString(pos++, data.getIfCode());
+		if(data.isBusinessDateNull())
+		{
+			throwNullAttribute("businessDate");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		stm.setInt(pos++, data.getBalanceType());
+		if (data.isAllocationNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getAllocation());
+		}
+
+		if (data.isBalanceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getBalance());
+		}
+
+		if (data.isUserIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getUserId());
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TestEodAcctIfPnlFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "ACCT_NBR_C,IF_CODE_C,BUS_DATE,BALANCE_TYPE_ID,ALLOCATION,BALANCE,USER_ID,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TestEodAcctIfPnl newObject = new TestEodAcctIfPnl(asOfDates[0]
+		);
+		newObject.zSetFromTestEodAcctIfPnlData((TestEodAcctIfPnlData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new AuditOnlyTransactionalDataContainer(tx.getPerPortalTemporalContainer(TestEodAcctIfPnlFinder.getMithraObjectPortal(),
+			TestEodAcctIfPnlFinder.processingDate())
+		);
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestEodAcctIfPnlData data = (TestEodAcctIfPnlData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getAccountId());
+		stm.setString(pos++, data.getIfCode());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		stm.setInt(pos++, data.getBalanceType());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		throw new RuntimeException("not implemented");
+	}
+}
@@ -0,0 +1,643 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestInvestmentFinancingDealDetailFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestInvestmentFinancingDealDetail";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestInvestmentFinancingDealDetail";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestInvestmentFinancingDealDetail");
+	private static final TestInvestmentFinancingDealDetailSingleFinder<TestInvestmentFinancingDealDetail, Object, TestInvestmentFinancingDealDetail> finder = new TestInvestmentFinancingDealDetailSingleFinder<TestInvestmentFinancingDealDetail, Object, TestInvestmentFinancingDealDetail>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestInvestmentFinancingDealDetailFinder.TestInvestmentFinancingDealDetailRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("checkId");
+		finderMethodMap.addRelationshipName("securitiesDealDetail");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestInvestmentFinancingDealDetail findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestInvestmentFinancingDealDetail findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestInvestmentFinancingDealDetailList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestInvestmentFinancingDealDetailList) finder.findMany(operation);
+	}
+
+	public static TestInvestmentFinancingDealDetailList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestInvestmentFinancingDealDetailList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestInvestmentFinancingDealDetail findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestInvestmentFinancingDealDetail) FinderUtils.findOne(found);
+	}
+
+	public static TestInvestmentFinancingDealDetail findByPrimaryKey(int checkId)
+	{
+		return finder.findByPrimaryKey(checkId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestInvestmentFinancingDealDetailData _castedTargetData = (TestInvestmentFinancingDealDetailData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TestInvestmentFinancingDealDetail zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestInvestmentFinancingDealDetail) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestInvestmentFinancingDealDetailRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestInvestmentFinancingDealDetail, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> checkId;
+		private TestInvestmentFinancingDealDetailSecuritiesDealDetailFinderSubclass<ParentOwnerType> securitiesDealDetail;
+		public TestInvestmentFinancingDealDetailRelatedFinder()
+		{
+			super();
+		}
+
+		public TestInvestmentFinancingDealDetailRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestInvestmentFinancingDealDetailFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestInvestmentFinancingDealDetailFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestInvestmentFinancingDealDetailFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestInvestmentFinancingDealDetailFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[1];
+			attributes[0] = this.checkId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.securitiesDealDetail());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestInvestmentFinancingDealDetail findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestInvestmentFinancingDealDetailFinder.findOne(operation, false);
+		}
+
+		public TestInvestmentFinancingDealDetail findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestInvestmentFinancingDealDetailFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestInvestmentFinancingDealDetail> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestInvestmentFinancingDealDetailList((Operation) operation);
+		}
+
+		public MithraList<? extends TestInvestmentFinancingDealDetail> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestInvestmentFinancingDealDetailList result = (TestInvestmentFinancingDealDetailList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestInvestmentFinancingDealDetail> constructEmptyList()
+		{
+			return new TestInvestmentFinancingDealDetailList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -154493556;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> checkId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.checkId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CHECK_ID","","checkId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestInvestmentFinancingDealDetailFinder.checkId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("securitiesDealDetail");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "TestSecuritiesDealDetailImpl", "investmentFinancingDealDetail");
+				this.checkId = result;
+			}
+
+			return result;
+		}
+
+		public TestSecuritiesDealDetailImplFinder.TestSecuritiesDealDetailImplSingleFinderForRelatedClasses<ParentOwnerType, TestSecuritiesDealDetailImpl, TestInvestmentFinancingDealDetail> securitiesDealDetail()
+		{
+			TestInvestmentFinancingDealDetailSecuritiesDealDetailFinderSubclass<ParentOwnerType> result = this.securitiesDealDetail;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestSecuritiesDealDetailImplFinder.zGetTestSecuritiesDealDetailImplInvestmentFinancingDealDetailMapper());
+				newMapper.setToMany(false);
+				result = new TestInvestmentFinancingDealDetailSecuritiesDealDetailFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.securitiesDealDetail = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestInvestmentFinancingDealDetailFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestInvestmentFinancingDealDetailFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestInvestmentFinancingDealDetailCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestInvestmentFinancingDealDetailRelatedFinder<ParentOwnerType, ReturnType, TestInvestmentFinancingDealDetailList, OwnerType>
+	{
+		public TestInvestmentFinancingDealDetailCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestInvestmentFinancingDealDetailCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestInvestmentFinancingDealDetailCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestInvestmentFinancingDealDetailCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestInvestmentFinancingDealDetailSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestInvestmentFinancingDealDetailRelatedFinder<ParentOwnerType, ReturnType, TestInvestmentFinancingDealDetailList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestInvestmentFinancingDealDetailSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestInvestmentFinancingDealDetailSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestInvestmentFinancingDealDetail other)
+		{
+			return this.checkId().eq(other.getCheckId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestInvestmentFinancingDealDetail findByPrimaryKey(int checkId)
+		{
+			TestInvestmentFinancingDealDetail _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(checkId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestInvestmentFinancingDealDetail) _related;
+			if (_related == null)
+			{
+				_op = this.checkId().eq(checkId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestInvestmentFinancingDealDetailSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestInvestmentFinancingDealDetailSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestInvestmentFinancingDealDetailSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to SEC_INVEST_CHECK.CHECK_ID **/
+	public static IntegerAttribute<TestInvestmentFinancingDealDetail> checkId()
+	{
+		return finder.checkId();
+	}
+
+	public static TestSecuritiesDealDetailImplFinder.TestSecuritiesDealDetailImplSingleFinderForRelatedClasses<TestInvestmentFinancingDealDetail, TestSecuritiesDealDetailImpl, TestInvestmentFinancingDealDetail> securitiesDealDetail()
+	{
+		return finder.securitiesDealDetail();
+	}
+
+	public static class TestInvestmentFinancingDealDetailSecuritiesDealDetailFinderSubclass<ParentOwnerType> extends TestSecuritiesDealDetailImplFinder.TestSecuritiesDealDetailImplSingleFinderForRelatedClasses<ParentOwnerType, TestSecuritiesDealDetailImpl, TestInvestmentFinancingDealDetail>
+	{
+		public TestInvestmentFinancingDealDetailSecuritiesDealDetailFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "securitiesDealDetail";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestInvestmentFinancingDealDetailSecuritiesDealDetailFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestSecuritiesDealDetailImpl plainValueOf(TestInvestmentFinancingDealDetail _obj)
+		{
+			return _obj.getSecuritiesDealDetail();
+		}
+
+		protected TestSecuritiesDealDetailImplList plainListValueOf(Object _obj)
+		{
+			return ((TestInvestmentFinancingDealDetailList)_obj).getSecuritiesDealDetails();
+		}
+	}
+
+	public static Operation eq(TestInvestmentFinancingDealDetail other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(checkId());
+	}
+
+	public static TestInvestmentFinancingDealDetailSingleFinder<TestInvestmentFinancingDealDetail, Object, TestInvestmentFinancingDealDetail> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+			, checkId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TestSecuritiesDealDetailImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TestSecuritiesDealDetailImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestInvestmentFinancingDealDetail");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
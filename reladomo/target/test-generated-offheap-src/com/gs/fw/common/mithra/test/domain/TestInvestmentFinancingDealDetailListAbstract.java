@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestInvestmentFinancingDealDetailListAbstract extends DelegatingList<TestInvestmentFinancingDealDetail> implements MithraTransactionalList<TestInvestmentFinancingDealDetail>
+{
+	public TestInvestmentFinancingDealDetailListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestInvestmentFinancingDealDetailListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestInvestmentFinancingDealDetailListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestInvestmentFinancingDealDetailListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestInvestmentFinancingDealDetail[] elements()
+	{
+		TestInvestmentFinancingDealDetail[] result = new TestInvestmentFinancingDealDetail[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestInvestmentFinancingDealDetailList intersection(TestInvestmentFinancingDealDetailList another)
+	{
+		return (TestInvestmentFinancingDealDetailList)super.intersection(another);
+	}
+
+	public TestInvestmentFinancingDealDetail getTestInvestmentFinancingDealDetailAt(int index)
+	{
+		return (TestInvestmentFinancingDealDetail)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestSecuritiesDealDetailImpl.checkId = this.checkId</pre>
+	* @see TestSecuritiesDealDetailImpl#getInvestmentFinancingDealDetail() reverse relationship TestSecuritiesDealDetailImpl.getInvestmentFinancingDealDetail()
+	* @return The securities deal detail
+	*/
+	public TestSecuritiesDealDetailImplList getSecuritiesDealDetails()
+	{
+		return (TestSecuritiesDealDetailImplList) this.zGetDelegated().resolveRelationship(this, TestInvestmentFinancingDealDetailFinder.securitiesDealDetail());
+	}
+
+	public void zSetParentContainersecuritiesDealDetail(TestSecuritiesDealDetailImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			TestInvestmentFinancingDealDetail item = this.getTestInvestmentFinancingDealDetailAt(i);
+			item.zSetParentContainersecuritiesDealDetail(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestInvestmentFinancingDealDetailFinder.getMithraObjectPortal();
+	}
+
+	public TestInvestmentFinancingDealDetailList getNonPersistentCopy()
+	{
+		TestInvestmentFinancingDealDetailList result = new TestInvestmentFinancingDealDetailList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestInvestmentFinancingDealDetailList asAdhoc()
+	{
+		return (TestInvestmentFinancingDealDetailList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestInvestmentFinancingDealDetail> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestInvestmentFinancingDealDetailList merge(MithraTransactionalList<TestInvestmentFinancingDealDetail> incoming, TopLevelMergeOptions<TestInvestmentFinancingDealDetail> mergeOptions)
+	{
+		return (TestInvestmentFinancingDealDetailList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestInvestmentFinancingDealDetailList getDetachedCopy()
+	{
+		TestInvestmentFinancingDealDetailList result = new TestInvestmentFinancingDealDetailList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(TestInvestmentFinancingDealDetailFinder.checkId(), newValue);
+	}
+}
@@ -0,0 +1,356 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestNonDatedTableForAllSubclassesWithGenerateInterfaceDatabaseObjectAbstract extends MithraAbstractDatabaseObject implements MithraDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "USERID";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.USERID";
+	private static final String PK_WITH_ALIAS = "t0.OBJECTID = ?";
+	private static final String PK_INDEX_COLS = "OBJECTID";
+	protected TestNonDatedTableForAllSubclassesWithGenerateInterfaceDatabaseObjectAbstract()
+	{
+		super("TestNonDatedTableForAllSubclassesWithGenerateInterface", "com.gs.fw.common.mithra.test.domain.TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder",
+			2, 2,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getFinderInstance();
+	}
+
+	public static TestNonDatedTableForAllSubclassesWithGenerateInterfaceData allocateOnHeapData()
+	{
+		return new TestNonDatedTableForAllSubclassesWithGenerateInterfaceData();
+	}
+
+	public static TestNonDatedTableForAllSubclassesWithGenerateInterfaceData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestNonDatedTableForAllSubclassesWithGenerateInterfaceData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestNonDatedTableForAllSubclassesWithGenerateInterfaceData data = new TestNonDatedTableForAllSubclassesWithGenerateInterfaceData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new FullNonDatedCache(TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getPrimaryKeyAttributes(), this, TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getImmutableAttributes());
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new PartialNonDatedCache(TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getPrimaryKeyAttributes(), this, TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestNonDatedTableForAllSubclassesWithGenerateInterfaceData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestNonDatedTableForAllSubclassesWithGenerateInterfaceData(1, (TestNonDatedTableForAllSubclassesWithGenerateInterfaceData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestNonDatedTableForAllSubclassesWithGenerateInterfacePkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestNonDatedTableForAllSubclassesWithGenerateInterfaceTableName();
+	}
+
+	public String getTestNonDatedTableForAllSubclassesWithGenerateInterfaceTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestNonDatedTableForAllSubclassesWithGenerateInterfaceData data = (TestNonDatedTableForAllSubclassesWithGenerateInterfaceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getObjectId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "OBJECTID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.OBJECTID,t0.USERID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*2);
+		result.append(databaseAlias).append(".").append("OBJECTID");
+		result.append(",").append(databaseAlias).append(".").append("USERID");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceData inflateTestNonDatedTableForAllSubclassesWithGenerateInterfaceData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestNonDatedTableForAllSubclassesWithGenerateInterfaceData data = inflateTestNonDatedTableForAllSubclassesWithGenerateInterfacePkData(rs, dt);
+		inflateNonPkTestNonDatedTableForAllSubclassesWithGenerateInterfaceData(2, data, rs, dt);
+		return data;
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceData inflateTestNonDatedTableForAllSubclassesWithGenerateInterfacePkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestNonDatedTableForAllSubclassesWithGenerateInterfaceData _data = new TestNonDatedTableForAllSubclassesWithGenerateInterfaceData();
+		int _pos = 1;
+		_data.setObjectId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "objectId");
+		return _data;
+	}
+
+	public void inflateNonPkTestNonDatedTableForAllSubclassesWithGenerateInterfaceData(int _pos, TestNonDatedTableForAllSubclassesWithGenerateInterfaceData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestNonDatedTableForAllSubclassesWithGenerateInterfaceData _data = _datax;
+			_data.setUserId(trimString(_rs.getString(_pos++)));
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TEST_NON_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl newObject = constructTestNonDatedTableForAllSubclassesWithGenerateInterface(newData);
+		newObject.zSetFromTestNonDatedTableForAllSubclassesWithGenerateInterfaceData((TestNonDatedTableForAllSubclassesWithGenerateInterfaceData) newData);
+		return newObject;
+	}
+
+	protected abstract TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl constructTestNonDatedTableForAllSubclassesWithGenerateInterface(MithraDataObject data);
+	public void analyzeChangeForReload(PrimaryKeyIndex fullUniqueIndex, MithraDataObject data, List newDataList, List updatedDataList)
+	{
+		TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl object = fullUniqueIndex == null ? null : (TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl) fullUniqueIndex.removeUsingUnderlying(data);
+		if (object == null)
+		{
+			newDataList.add(createObject(data));
+		}
+		else
+		{
+			if (object.zChanged(data))
+			{
+				updatedDataList.add(data);
+			}
+		}
+	}
+}
@@ -0,0 +1,598 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestNonDatedTableForAllSubclassesWithGenerateInterface";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestNonDatedTableForAllSubclassesWithGenerateInterface");
+	private static final TestNonDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<TestNonDatedTableForAllSubclassesWithGenerateInterface, Object, TestNonDatedTableForAllSubclassesWithGenerateInterface> finder = new TestNonDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<TestNonDatedTableForAllSubclassesWithGenerateInterface, Object, TestNonDatedTableForAllSubclassesWithGenerateInterface>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.TestNonDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("objectId");
+		finderMethodMap.addNormalAttributeName("userId");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestNonDatedTableForAllSubclassesWithGenerateInterface findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestNonDatedTableForAllSubclassesWithGenerateInterface findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestNonDatedTableForAllSubclassesWithGenerateInterfaceList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl) finder.findMany(operation);
+	}
+
+	public static TestNonDatedTableForAllSubclassesWithGenerateInterfaceList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static TestNonDatedTableForAllSubclassesWithGenerateInterface findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl) FinderUtils.findOne(found);
+	}
+
+	public static TestNonDatedTableForAllSubclassesWithGenerateInterface findByPrimaryKey(long objectId)
+	{
+		return finder.findByPrimaryKey(objectId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl _castedTargetData = (TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getObjectId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestNonDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestNonDatedTableForAllSubclassesWithGenerateInterface, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> objectId;
+		private StringAttribute<ParentOwnerType> userId;
+		public TestNonDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder()
+		{
+			super();
+		}
+
+		public TestNonDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.objectId();
+			attributes[1] = this.userId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestNonDatedTableForAllSubclassesWithGenerateInterface findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.findOne(operation, false);
+		}
+
+		public TestNonDatedTableForAllSubclassesWithGenerateInterface findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestNonDatedTableForAllSubclassesWithGenerateInterface> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends TestNonDatedTableForAllSubclassesWithGenerateInterface> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl result = (TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestNonDatedTableForAllSubclassesWithGenerateInterface> constructEmptyList()
+		{
+			return new TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -923503914;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> objectId()
+		{
+			LongAttribute<ParentOwnerType> result = this.objectId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("OBJECTID","","objectId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.objectId(), this.mapper, this.zGetValueSelector());
+				this.objectId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> userId()
+		{
+			StringAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("USERID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,40,true, false) :
+					new MappedStringAttribute(TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestNonDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestNonDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder<ParentOwnerType, ReturnType, TestNonDatedTableForAllSubclassesWithGenerateInterfaceList, OwnerType>
+	{
+		public TestNonDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestNonDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestNonDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestNonDatedTableForAllSubclassesWithGenerateInterfaceCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestNonDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestNonDatedTableForAllSubclassesWithGenerateInterfaceRelatedFinder<ParentOwnerType, ReturnType, TestNonDatedTableForAllSubclassesWithGenerateInterfaceList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestNonDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestNonDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestNonDatedTableForAllSubclassesWithGenerateInterface other)
+		{
+			return this.objectId().eq(other.getObjectId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestNonDatedTableForAllSubclassesWithGenerateInterface findByPrimaryKey(long objectId)
+		{
+			TestNonDatedTableForAllSubclassesWithGenerateInterface _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(objectId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestNonDatedTableForAllSubclassesWithGenerateInterface) _related;
+			if (_related == null)
+			{
+				_op = this.objectId().eq(objectId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestNonDatedTableForAllSubclassesWithGenerateInterfaceSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestNonDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestNonDatedTableForAllSubclassesWithGenerateInterfaceSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TEST_NON_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE.OBJECTID **/
+	public static LongAttribute<TestNonDatedTableForAllSubclassesWithGenerateInterface> objectId()
+	{
+		return finder.objectId();
+	}
+
+	/** maps to TEST_NON_DATED_TABLE_FOR_ALL_SUBCLASSES_WITH_GENERATE_INTERFACE.USERID **/
+	public static StringAttribute<TestNonDatedTableForAllSubclassesWithGenerateInterface> userId()
+	{
+		return finder.userId();
+	}
+
+	public static Operation eq(TestNonDatedTableForAllSubclassesWithGenerateInterface other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(objectId());
+	}
+
+	public static TestNonDatedTableForAllSubclassesWithGenerateInterfaceSingleFinder<TestNonDatedTableForAllSubclassesWithGenerateInterface, Object, TestNonDatedTableForAllSubclassesWithGenerateInterface> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			objectId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			objectId()
+			, objectId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestNonDatedTableForAllSubclassesWithGenerateInterface");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
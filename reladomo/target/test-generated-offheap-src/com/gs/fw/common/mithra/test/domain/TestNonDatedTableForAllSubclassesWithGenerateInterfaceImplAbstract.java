@@ -0,0 +1,229 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class TestNonDatedTableForAllSubclassesWithGenerateInterfaceImplAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private long objectId;
+	private String userId;
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.getUserId() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeLong(this.objectId);
+		out.writeObject(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		TestNonDatedTableForAllSubclassesWithGenerateInterfaceData data = new TestNonDatedTableForAllSubclassesWithGenerateInterfaceData();
+		data.setObjectId(objectId);
+		data.setUserId(userId);
+		return data;
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		TestNonDatedTableForAllSubclassesWithGenerateInterfaceImplAbstract copy = (TestNonDatedTableForAllSubclassesWithGenerateInterfaceImplAbstract) TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl)copy;
+	}
+
+	protected void zSetFromTestNonDatedTableForAllSubclassesWithGenerateInterfaceData(TestNonDatedTableForAllSubclassesWithGenerateInterfaceData data)
+	{
+		this.setFromTestNonDatedTableForAllSubclassesWithGenerateInterfaceData(data);
+	}
+
+	public void setFromTestNonDatedTableForAllSubclassesWithGenerateInterfaceData(TestNonDatedTableForAllSubclassesWithGenerateInterfaceData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		objectId = data.getObjectId();
+		userId = data.getUserId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromTestNonDatedTableForAllSubclassesWithGenerateInterfaceData((TestNonDatedTableForAllSubclassesWithGenerateInterfaceData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public long getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.objectId = value;
+	}
+
+	public String getUserId()
+	{
+		return this.userId;
+	}
+
+	public void setUserId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.userId = StringPool.getInstance().getOrAddToCache(value, TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final TestNonDatedTableForAllSubclassesWithGenerateInterfaceData testNonDatedTableForAllSubclassesWithGenerateInterfaceData = (TestNonDatedTableForAllSubclassesWithGenerateInterfaceData) newData;
+		if (!isUserIdNull() ? !getUserId().equals(testNonDatedTableForAllSubclassesWithGenerateInterfaceData.getUserId()) : !testNonDatedTableForAllSubclassesWithGenerateInterfaceData.isUserIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeLong(this.objectId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.objectId = in.readLong();
+			this.userId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.objectId = in.readLong();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.objectId().eq(this.getObjectId());
+			return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,267 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestNonDatedTablePerClassSuperClassWithInterfaceData
+implements MithraDataObject
+{
+	private long objectId;
+	private String userId;
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.getUserId() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeLong(this.objectId);
+		out.writeObject(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public long getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(long value)
+	{
+		this.objectId = value;
+	}
+
+	public void setObjectIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getUserId()
+	{
+		return this.userId;
+	}
+
+	public int zGetUserIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(userId);
+	}
+
+	public void setUserId(String value)
+	{
+		this.userId = StringPool.getInstance().getOrAddToCache(value, TestNonDatedTablePerClassSuperClassWithInterfaceFinder.isFullCache());
+	}
+
+	public void setUserIdNull()
+	{
+		this.setUserId(null);
+	}
+
+	protected void copyInto(TestNonDatedTablePerClassSuperClassWithInterfaceData copy, boolean withRelationships)
+	{
+		copy.objectId = this.objectId;
+		copy.userId = this.userId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.objectId = in.readLong();
+		this.userId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestNonDatedTablePerClassSuperClassWithInterfaceFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TestNonDatedTablePerClassSuperClassWithInterfaceData otherData = (TestNonDatedTablePerClassSuperClassWithInterfaceData) other;
+		if (getObjectId() != otherData.getObjectId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.objectId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.objectId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TestNonDatedTablePerClassSuperClassWithInterfaceData testNonDatedTablePerClassSuperClassWithInterfaceData = (TestNonDatedTablePerClassSuperClassWithInterfaceData) newData;
+		this.setUserId(testNonDatedTablePerClassSuperClassWithInterfaceData.getUserId());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TestNonDatedTablePerClassSuperClassWithInterfaceData other = (TestNonDatedTablePerClassSuperClassWithInterfaceData) newData;
+		if (!isUserIdNull() ? !getUserId().equals(other.getUserId()) : !other.isUserIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TestNonDatedTablePerClassSuperClassWithInterfaceData copy = new TestNonDatedTablePerClassSuperClassWithInterfaceData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TestNonDatedTablePerClassSuperClassWithInterfaceData copy = new TestNonDatedTablePerClassSuperClassWithInterfaceData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.getClass().getName());
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return (String) in.readObject();
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TestNonDatedTablePerClassSuperClassWithInterfaceFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TestNonDatedTablePerClassSuperClassWithInterfaceFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestNonDatedTablePerClassSuperClassWithInterfaceData";
+	}
+}
@@ -0,0 +1,757 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestObj16NullablesData
+implements MithraDataObject
+{
+	private short isNullBits0 = 0;
+	private int nullableField0;
+	private int nullableField1;
+	private int nullableField10;
+	private int nullableField11;
+	private int nullableField12;
+	private int nullableField13;
+	private int nullableField14;
+	private int nullableField15;
+	private int nullableField2;
+	private int nullableField3;
+	private int nullableField4;
+	private int nullableField5;
+	private int nullableField6;
+	private int nullableField7;
+	private int nullableField8;
+	private int nullableField9;
+	private int objectId;
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNullableField0Null()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isNullableField1Null()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isNullableField2Null()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isNullableField3Null()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isNullableField4Null()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isNullableField5Null()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isNullableField6Null()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isNullableField7Null()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public boolean isNullableField8Null()
+	{
+		return (isNullBits0 & 1 << 8) != 0 ;
+	}
+
+	public boolean isNullableField9Null()
+	{
+		return (isNullBits0 & 1 << 9) != 0 ;
+	}
+
+	public boolean isNullableField10Null()
+	{
+		return (isNullBits0 & 1 << 10) != 0 ;
+	}
+
+	public boolean isNullableField11Null()
+	{
+		return (isNullBits0 & 1 << 11) != 0 ;
+	}
+
+	public boolean isNullableField12Null()
+	{
+		return (isNullBits0 & 1 << 12) != 0 ;
+	}
+
+	public boolean isNullableField13Null()
+	{
+		return (isNullBits0 & 1 << 13) != 0 ;
+	}
+
+	public boolean isNullableField14Null()
+	{
+		return (isNullBits0 & 1 << 14) != 0 ;
+	}
+
+	public boolean isNullableField15Null()
+	{
+		return (isNullBits0 & 1 << 15) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.nullableField0);
+		out.writeInt(this.nullableField1);
+		out.writeInt(this.nullableField10);
+		out.writeInt(this.nullableField11);
+		out.writeInt(this.nullableField12);
+		out.writeInt(this.nullableField13);
+		out.writeInt(this.nullableField14);
+		out.writeInt(this.nullableField15);
+		out.writeInt(this.nullableField2);
+		out.writeInt(this.nullableField3);
+		out.writeInt(this.nullableField4);
+		out.writeInt(this.nullableField5);
+		out.writeInt(this.nullableField6);
+		out.writeInt(this.nullableField7);
+		out.writeInt(this.nullableField8);
+		out.writeInt(this.nullableField9);
+		out.writeInt(this.objectId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeShort(this.isNullBits0);
+	}
+
+	public int getNullableField0()
+	{
+		return this.nullableField0;
+	}
+
+	public void setNullableField0(int value)
+	{
+		this.nullableField0 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getNullableField1()
+	{
+		return this.nullableField1;
+	}
+
+	public void setNullableField1(int value)
+	{
+		this.nullableField1 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getNullableField10()
+	{
+		return this.nullableField10;
+	}
+
+	public void setNullableField10(int value)
+	{
+		this.nullableField10 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 10));
+	}
+
+	public int getNullableField11()
+	{
+		return this.nullableField11;
+	}
+
+	public void setNullableField11(int value)
+	{
+		this.nullableField11 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 11));
+	}
+
+	public int getNullableField12()
+	{
+		return this.nullableField12;
+	}
+
+	public void setNullableField12(int value)
+	{
+		this.nullableField12 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 12));
+	}
+
+	public int getNullableField13()
+	{
+		return this.nullableField13;
+	}
+
+	public void setNullableField13(int value)
+	{
+		this.nullableField13 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 13));
+	}
+
+	public int getNullableField14()
+	{
+		return this.nullableField14;
+	}
+
+	public void setNullableField14(int value)
+	{
+		this.nullableField14 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 14));
+	}
+
+	public int getNullableField15()
+	{
+		return this.nullableField15;
+	}
+
+	public void setNullableField15(int value)
+	{
+		this.nullableField15 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 15));
+	}
+
+	public int getNullableField2()
+	{
+		return this.nullableField2;
+	}
+
+	public void setNullableField2(int value)
+	{
+		this.nullableField2 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getNullableField3()
+	{
+		return this.nullableField3;
+	}
+
+	public void setNullableField3(int value)
+	{
+		this.nullableField3 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getNullableField4()
+	{
+		return this.nullableField4;
+	}
+
+	public void setNullableField4(int value)
+	{
+		this.nullableField4 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public int getNullableField5()
+	{
+		return this.nullableField5;
+	}
+
+	public void setNullableField5(int value)
+	{
+		this.nullableField5 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public int getNullableField6()
+	{
+		return this.nullableField6;
+	}
+
+	public void setNullableField6(int value)
+	{
+		this.nullableField6 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public int getNullableField7()
+	{
+		return this.nullableField7;
+	}
+
+	public void setNullableField7(int value)
+	{
+		this.nullableField7 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	public int getNullableField8()
+	{
+		return this.nullableField8;
+	}
+
+	public void setNullableField8(int value)
+	{
+		this.nullableField8 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 8));
+	}
+
+	public int getNullableField9()
+	{
+		return this.nullableField9;
+	}
+
+	public void setNullableField9(int value)
+	{
+		this.nullableField9 = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 9));
+	}
+
+	public int getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(int value)
+	{
+		this.objectId = value;
+	}
+
+	public void setObjectIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void setNullableField0Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1);
+	}
+
+	public void setNullableField1Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setNullableField2Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setNullableField3Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setNullableField4Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setNullableField5Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setNullableField6Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 6);
+	}
+
+	public void setNullableField7Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 7);
+	}
+
+	public void setNullableField8Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 8);
+	}
+
+	public void setNullableField9Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 9);
+	}
+
+	public void setNullableField10Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 10);
+	}
+
+	public void setNullableField11Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 11);
+	}
+
+	public void setNullableField12Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 12);
+	}
+
+	public void setNullableField13Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 13);
+	}
+
+	public void setNullableField14Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 14);
+	}
+
+	public void setNullableField15Null()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 15);
+	}
+
+	public short zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(short newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(TestObj16NullablesData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.nullableField0 = this.nullableField0;
+		copy.nullableField1 = this.nullableField1;
+		copy.nullableField10 = this.nullableField10;
+		copy.nullableField11 = this.nullableField11;
+		copy.nullableField12 = this.nullableField12;
+		copy.nullableField13 = this.nullableField13;
+		copy.nullableField14 = this.nullableField14;
+		copy.nullableField15 = this.nullableField15;
+		copy.nullableField2 = this.nullableField2;
+		copy.nullableField3 = this.nullableField3;
+		copy.nullableField4 = this.nullableField4;
+		copy.nullableField5 = this.nullableField5;
+		copy.nullableField6 = this.nullableField6;
+		copy.nullableField7 = this.nullableField7;
+		copy.nullableField8 = this.nullableField8;
+		copy.nullableField9 = this.nullableField9;
+		copy.objectId = this.objectId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readShort();
+		this.nullableField0 = in.readInt();
+		this.nullableField1 = in.readInt();
+		this.nullableField10 = in.readInt();
+		this.nullableField11 = in.readInt();
+		this.nullableField12 = in.readInt();
+		this.nullableField13 = in.readInt();
+		this.nullableField14 = in.readInt();
+		this.nullableField15 = in.readInt();
+		this.nullableField2 = in.readInt();
+		this.nullableField3 = in.readInt();
+		this.nullableField4 = in.readInt();
+		this.nullableField5 = in.readInt();
+		this.nullableField6 = in.readInt();
+		this.nullableField7 = in.readInt();
+		this.nullableField8 = in.readInt();
+		this.nullableField9 = in.readInt();
+		this.objectId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TestObj16NullablesData otherData = (TestObj16NullablesData) other;
+		if (getObjectId() != otherData.getObjectId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.objectId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.objectId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TestObj16NullablesData testObj16NullablesData = (TestObj16NullablesData) newData;
+		this.setNullableField0(testObj16NullablesData.getNullableField0());
+		if (testObj16NullablesData.isNullableField0Null()) this.setNullableField0Null();
+		this.setNullableField1(testObj16NullablesData.getNullableField1());
+		if (testObj16NullablesData.isNullableField1Null()) this.setNullableField1Null();
+		this.setNullableField10(testObj16NullablesData.getNullableField10());
+		if (testObj16NullablesData.isNullableField10Null()) this.setNullableField10Null();
+		this.setNullableField11(testObj16NullablesData.getNullableField11());
+		if (testObj16NullablesData.isNullableField11Null()) this.setNullableField11Null();
+		this.setNullableField12(testObj16NullablesData.getNullableField12());
+		if (testObj16NullablesData.isNullableField12Null()) this.setNullableField12Null();
+		this.setNullableField13(testObj16NullablesData.getNullableField13());
+		if (testObj16NullablesData.isNullableField13Null()) this.setNullableField13Null();
+		this.setNullableField14(testObj16NullablesData.getNullableField14());
+		if (testObj16NullablesData.isNullableField14Null()) this.setNullableField14Null();
+		this.setNullableField15(testObj16NullablesData.getNullableField15());
+		if (testObj16NullablesData.isNullableField15Null()) this.setNullableField15Null();
+		this.setNullableField2(testObj16NullablesData.getNullableField2());
+		if (testObj16NullablesData.isNullableField2Null()) this.setNullableField2Null();
+		this.setNullableField3(testObj16NullablesData.getNullableField3());
+		if (testObj16NullablesData.isNullableField3Null()) this.setNullableField3Null();
+		this.setNullableField4(testObj16NullablesData.getNullableField4());
+		if (testObj16NullablesData.isNullableField4Null()) this.setNullableField4Null();
+		this.setNullableField5(testObj16NullablesData.getNullableField5());
+		if (testObj16NullablesData.isNullableField5Null()) this.setNullableField5Null();
+		this.setNullableField6(testObj16NullablesData.getNullableField6());
+		if (testObj16NullablesData.isNullableField6Null()) this.setNullableField6Null();
+		this.setNullableField7(testObj16NullablesData.getNullableField7());
+		if (testObj16NullablesData.isNullableField7Null()) this.setNullableField7Null();
+		this.setNullableField8(testObj16NullablesData.getNullableField8());
+		if (testObj16NullablesData.isNullableField8Null()) this.setNullableField8Null();
+		this.setNullableField9(testObj16NullablesData.getNullableField9());
+		if (testObj16NullablesData.isNullableField9Null()) this.setNullableField9Null();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TestObj16NullablesData other = (TestObj16NullablesData) newData;
+		if ( isNullableField0Null() != other.isNullableField0Null() || getNullableField0() != other.getNullableField0())
+		{
+			return true;
+		}
+
+		if ( isNullableField1Null() != other.isNullableField1Null() || getNullableField1() != other.getNullableField1())
+		{
+			return true;
+		}
+
+		if ( isNullableField10Null() != other.isNullableField10Null() || getNullableField10() != other.getNullableField10())
+		{
+			return true;
+		}
+
+		if ( isNullableField11Null() != other.isNullableField11Null() || getNullableField11() != other.getNullableField11())
+		{
+			return true;
+		}
+
+		if ( isNullableField12Null() != other.isNullableField12Null() || getNullableField12() != other.getNullableField12())
+		{
+			return true;
+		}
+
+		if ( isNullableField13Null() != other.isNullableField13Null() || getNullableField13() != other.getNullableField13())
+		{
+			return true;
+		}
+
+		if ( isNullableField14Null() != other.isNullableField14Null() || getNullableField14() != other.getNullableField14())
+		{
+			return true;
+		}
+
+		if ( isNullableField15Null() != other.isNullableField15Null() || getNullableField15() != other.getNullableField15())
+		{
+			return true;
+		}
+
+		if ( isNullableField2Null() != other.isNullableField2Null() || getNullableField2() != other.getNullableField2())
+		{
+			return true;
+		}
+
+		if ( isNullableField3Null() != other.isNullableField3Null() || getNullableField3() != other.getNullableField3())
+		{
+			return true;
+		}
+
+		if ( isNullableField4Null() != other.isNullableField4Null() || getNullableField4() != other.getNullableField4())
+		{
+			return true;
+		}
+
+		if ( isNullableField5Null() != other.isNullableField5Null() || getNullableField5() != other.getNullableField5())
+		{
+			return true;
+		}
+
+		if ( isNullableField6Null() != other.isNullableField6Null() || getNullableField6() != other.getNullableField6())
+		{
+			return true;
+		}
+
+		if ( isNullableField7Null() != other.isNullableField7Null() || getNullableField7() != other.getNullableField7())
+		{
+			return true;
+		}
+
+		if ( isNullableField8Null() != other.isNullableField8Null() || getNullableField8() != other.getNullableField8())
+		{
+			return true;
+		}
+
+		if ( isNullableField9Null() != other.isNullableField9Null() || getNullableField9() != other.getNullableField9())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TestObj16NullablesData copy = new TestObj16NullablesData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TestObj16NullablesData copy = new TestObj16NullablesData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestObj16NullablesData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TestObj16NullablesFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TestObj16NullablesFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestObj16NullablesData";
+	}
+}
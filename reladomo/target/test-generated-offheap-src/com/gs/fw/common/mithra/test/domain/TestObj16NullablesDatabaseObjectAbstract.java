@@ -0,0 +1,658 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestObj16NullablesDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "NULL_FIELD0,NULL_FIELD1,NULL_FIELD2,NULL_FIELD3,NULL_FIELD4,NULL_FIELD5,NULL_FIELD6,NULL_FIELD7,NULL_FIELD8,NULL_FIELD9,NULL_FIELD10,NULL_FIELD11,NULL_FIELD12,NULL_FIELD13,NULL_FIELD14,NULL_FIELD15";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.NULL_FIELD0,t0.NULL_FIELD1,t0.NULL_FIELD2,t0.NULL_FIELD3,t0.NULL_FIELD4,t0.NULL_FIELD5,t0.NULL_FIELD6,t0.NULL_FIELD7,t0.NULL_FIELD8,t0.NULL_FIELD9,t0.NULL_FIELD10,t0.NULL_FIELD11,t0.NULL_FIELD12,t0.NULL_FIELD13,t0.NULL_FIELD14,t0.NULL_FIELD15";
+	private static final String PK_WITH_ALIAS = "t0.OBJ_ID = ?";
+	private static final String PK_INDEX_COLS = "OBJ_ID";
+	protected TestObj16NullablesDatabaseObjectAbstract()
+	{
+		super("TestObj16Nullables", "com.gs.fw.common.mithra.test.domain.TestObj16NullablesFinder",
+			17, 17,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestObj16NullablesFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestObj16NullablesFinder.getFinderInstance();
+	}
+
+	public static TestObj16NullablesData allocateOnHeapData()
+	{
+		return new TestObj16NullablesData();
+	}
+
+	public static TestObj16NullablesData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestObj16NullablesData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestObj16NullablesData data = new TestObj16NullablesData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(TestObj16NullablesFinder.getPrimaryKeyAttributes(), this, TestObj16NullablesFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(TestObj16NullablesFinder.getPrimaryKeyAttributes(), this, TestObj16NullablesFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(TestObj16NullablesFinder.getPrimaryKeyAttributes(), this, TestObj16NullablesFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(TestObj16NullablesFinder.getPrimaryKeyAttributes(), this, TestObj16NullablesFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestObj16NullablesFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestObj16NullablesFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TestObj16Nullables.zConfigFullTx();
+		}
+		else
+		{
+			TestObj16Nullables.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestObj16NullablesData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestObj16NullablesData(1, (TestObj16NullablesData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestObj16NullablesPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestObj16NullablesTableName();
+	}
+
+	public String getTestObj16NullablesTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getObjectId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "OBJ_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.OBJ_ID,t0.NULL_FIELD0,t0.NULL_FIELD1,t0.NULL_FIELD2,t0.NULL_FIELD3,t0.NULL_FIELD4,t0.NULL_FIELD5,t0.NULL_FIELD6,t0.NULL_FIELD7,t0.NULL_FIELD8,t0.NULL_FIELD9,t0.NULL_FIELD10,t0.NULL_FIELD11,t0.NULL_FIELD12,t0.NULL_FIELD13,t0.NULL_FIELD14,t0.NULL_FIELD15";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*17);
+		result.append(databaseAlias).append(".").append("OBJ_ID");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD0");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD1");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD2");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD3");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD4");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD5");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD6");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD7");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD8");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD9");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD10");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD11");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD12");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD13");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD14");
+		result.append(",").append(databaseAlias).append(".").append("NULL_FIELD15");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestObj16NullablesData inflateTestObj16NullablesData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestObj16NullablesData data = inflateTestObj16NullablesPkData(rs, dt);
+		inflateNonPkTestObj16NullablesData(2, data, rs, dt);
+		return data;
+	}
+
+	public TestObj16NullablesData inflateTestObj16NullablesPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestObj16NullablesData _data = new TestObj16NullablesData();
+		int _pos = 1;
+		_data.setObjectId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "objectId");
+		return _data;
+	}
+
+	public void inflateNonPkTestObj16NullablesData(int _pos, TestObj16NullablesData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestObj16NullablesData _data = _datax;
+			_data.setNullableField0(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField0Null();
+			}
+
+			_data.setNullableField1(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField1Null();
+			}
+
+			_data.setNullableField2(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField2Null();
+			}
+
+			_data.setNullableField3(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField3Null();
+			}
+
+			_data.setNullableField4(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField4Null();
+			}
+
+			_data.setNullableField5(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField5Null();
+			}
+
+			_data.setNullableField6(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField6Null();
+			}
+
+			_data.setNullableField7(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField7Null();
+			}
+
+			_data.setNullableField8(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField8Null();
+			}
+
+			_data.setNullableField9(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField9Null();
+			}
+
+			_data.setNullableField10(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField10Null();
+			}
+
+			_data.setNullableField11(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField11Null();
+			}
+
+			_data.setNullableField12(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField12Null();
+			}
+
+			_data.setNullableField13(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField13Null();
+			}
+
+			_data.setNullableField14(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField14Null();
+			}
+
+			_data.setNullableField15(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNullableField15Null();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TEST_OBJ_16NULL";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getObjectId());
+		if (data.isNullableField0Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField0());
+		}
+
+		if (data.isNullableField1Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField1());
+		}
+
+		if (data.isNullableField2Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField2());
+		}
+
+		if (data.isNullableField3Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField3());
+		}
+
+		if (data.isNullableField4Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField4());
+		}
+
+		if (data.isNullableField5Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField5());
+		}
+
+		if (data.isNullableField6Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField6());
+		}
+
+		if (data.isNullableField7Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField7());
+		}
+
+		if (data.isNullableField8Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField8());
+		}
+
+		if (data.isNullableField9Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField9());
+		}
+
+		if (data.isNullableField10Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField10());
+		}
+
+		if (data.isNullableField11Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField11());
+		}
+
+		if (data.isNullableField12Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField12());
+		}
+
+		if (data.isNullableField13Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField13());
+		}
+
+		if (data.isNullableField14Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField14());
+		}
+
+		if (data.isNullableField15Null())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNullableField15());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "OBJ_ID,NULL_FIELD0,NULL_FIELD1,NULL_FIELD2,NULL_FIELD3,NULL_FIELD4,NULL_FIELD5,NULL_FIELD6,NULL_FIELD7,NULL_FIELD8,NULL_FIELD9,NULL_FIELD10,NULL_FIELD11,NULL_FIELD12,NULL_FIELD13,NULL_FIELD14,NULL_FIELD15";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		TestObj16Nullables newObject = new TestObj16Nullables();
+		newObject.zSetFromTestObj16NullablesData((TestObj16NullablesData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.OBJ_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*17);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("OBJ_ID");
+		return result.toString();
+	}
+}
@@ -0,0 +1,998 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestObj32NullablesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestObj32Nullables.class.getName());
+	public TestObj32NullablesAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestObj32Nullables getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestObj32Nullables) super.getDetachedCopy();
+	}
+
+	public TestObj32Nullables getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestObj32Nullables result = (TestObj32Nullables) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestObj32Nullables copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestObj32Nullables) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestObj32Nullables zFindOriginal()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.currentData;
+		Operation op;
+		op = TestObj32NullablesFinder.objectId().eq(data.getObjectId());
+		return TestObj32NullablesFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestObj32NullablesData();
+	}
+
+	protected void zSetFromTestObj32NullablesData( TestObj32NullablesData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestObj32NullablesData( TestObj32NullablesData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isNullableField0Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField0Null();
+	}
+
+	public int getNullableField0()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField0Null()) MithraNullPrimitiveException.throwNew("nullableField0", data);
+		return data.getNullableField0();
+	}
+
+	public void setNullableField0(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField0(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField1Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField1Null();
+	}
+
+	public int getNullableField1()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField1Null()) MithraNullPrimitiveException.throwNew("nullableField1", data);
+		return data.getNullableField1();
+	}
+
+	public void setNullableField1(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField1(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField10Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField10Null();
+	}
+
+	public int getNullableField10()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField10Null()) MithraNullPrimitiveException.throwNew("nullableField10", data);
+		return data.getNullableField10();
+	}
+
+	public void setNullableField10(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField10(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField11Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField11Null();
+	}
+
+	public int getNullableField11()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField11Null()) MithraNullPrimitiveException.throwNew("nullableField11", data);
+		return data.getNullableField11();
+	}
+
+	public void setNullableField11(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField11(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField12Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField12Null();
+	}
+
+	public int getNullableField12()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField12Null()) MithraNullPrimitiveException.throwNew("nullableField12", data);
+		return data.getNullableField12();
+	}
+
+	public void setNullableField12(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField12(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField13Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField13Null();
+	}
+
+	public int getNullableField13()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField13Null()) MithraNullPrimitiveException.throwNew("nullableField13", data);
+		return data.getNullableField13();
+	}
+
+	public void setNullableField13(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField13(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField14Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField14Null();
+	}
+
+	public int getNullableField14()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField14Null()) MithraNullPrimitiveException.throwNew("nullableField14", data);
+		return data.getNullableField14();
+	}
+
+	public void setNullableField14(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField14(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField15Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField15Null();
+	}
+
+	public int getNullableField15()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField15Null()) MithraNullPrimitiveException.throwNew("nullableField15", data);
+		return data.getNullableField15();
+	}
+
+	public void setNullableField15(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField15(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField16Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField16Null();
+	}
+
+	public int getNullableField16()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField16Null()) MithraNullPrimitiveException.throwNew("nullableField16", data);
+		return data.getNullableField16();
+	}
+
+	public void setNullableField16(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField16(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField17Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField17Null();
+	}
+
+	public int getNullableField17()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField17Null()) MithraNullPrimitiveException.throwNew("nullableField17", data);
+		return data.getNullableField17();
+	}
+
+	public void setNullableField17(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField17(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField18Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField18Null();
+	}
+
+	public int getNullableField18()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField18Null()) MithraNullPrimitiveException.throwNew("nullableField18", data);
+		return data.getNullableField18();
+	}
+
+	public void setNullableField18(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField18(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField19Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField19Null();
+	}
+
+	public int getNullableField19()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField19Null()) MithraNullPrimitiveException.throwNew("nullableField19", data);
+		return data.getNullableField19();
+	}
+
+	public void setNullableField19(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField19(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField2Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField2Null();
+	}
+
+	public int getNullableField2()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField2Null()) MithraNullPrimitiveException.throwNew("nullableField2", data);
+		return data.getNullableField2();
+	}
+
+	public void setNullableField2(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField2(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField20Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField20Null();
+	}
+
+	public int getNullableField20()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField20Null()) MithraNullPrimitiveException.throwNew("nullableField20", data);
+		return data.getNullableField20();
+	}
+
+	public void setNullableField20(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField20(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField21Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField21Null();
+	}
+
+	public int getNullableField21()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField21Null()) MithraNullPrimitiveException.throwNew("nullableField21", data);
+		return data.getNullableField21();
+	}
+
+	public void setNullableField21(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField21(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField22Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField22Null();
+	}
+
+	public int getNullableField22()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField22Null()) MithraNullPrimitiveException.throwNew("nullableField22", data);
+		return data.getNullableField22();
+	}
+
+	public void setNullableField22(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField22(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField23Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField23Null();
+	}
+
+	public int getNullableField23()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField23Null()) MithraNullPrimitiveException.throwNew("nullableField23", data);
+		return data.getNullableField23();
+	}
+
+	public void setNullableField23(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField23(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField24Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField24Null();
+	}
+
+	public int getNullableField24()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField24Null()) MithraNullPrimitiveException.throwNew("nullableField24", data);
+		return data.getNullableField24();
+	}
+
+	public void setNullableField24(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField24(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField25Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField25Null();
+	}
+
+	public int getNullableField25()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField25Null()) MithraNullPrimitiveException.throwNew("nullableField25", data);
+		return data.getNullableField25();
+	}
+
+	public void setNullableField25(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField25(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField26Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField26Null();
+	}
+
+	public int getNullableField26()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField26Null()) MithraNullPrimitiveException.throwNew("nullableField26", data);
+		return data.getNullableField26();
+	}
+
+	public void setNullableField26(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField26(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField27Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField27Null();
+	}
+
+	public int getNullableField27()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField27Null()) MithraNullPrimitiveException.throwNew("nullableField27", data);
+		return data.getNullableField27();
+	}
+
+	public void setNullableField27(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField27(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField28Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField28Null();
+	}
+
+	public int getNullableField28()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField28Null()) MithraNullPrimitiveException.throwNew("nullableField28", data);
+		return data.getNullableField28();
+	}
+
+	public void setNullableField28(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField28(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField29Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField29Null();
+	}
+
+	public int getNullableField29()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField29Null()) MithraNullPrimitiveException.throwNew("nullableField29", data);
+		return data.getNullableField29();
+	}
+
+	public void setNullableField29(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField29(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField3Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField3Null();
+	}
+
+	public int getNullableField3()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField3Null()) MithraNullPrimitiveException.throwNew("nullableField3", data);
+		return data.getNullableField3();
+	}
+
+	public void setNullableField3(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField3(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField30Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField30Null();
+	}
+
+	public int getNullableField30()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField30Null()) MithraNullPrimitiveException.throwNew("nullableField30", data);
+		return data.getNullableField30();
+	}
+
+	public void setNullableField30(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField30(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField31Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField31Null();
+	}
+
+	public int getNullableField31()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField31Null()) MithraNullPrimitiveException.throwNew("nullableField31", data);
+		return data.getNullableField31();
+	}
+
+	public void setNullableField31(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField31(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField4Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField4Null();
+	}
+
+	public int getNullableField4()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField4Null()) MithraNullPrimitiveException.throwNew("nullableField4", data);
+		return data.getNullableField4();
+	}
+
+	public void setNullableField4(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField4(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField5Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField5Null();
+	}
+
+	public int getNullableField5()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField5Null()) MithraNullPrimitiveException.throwNew("nullableField5", data);
+		return data.getNullableField5();
+	}
+
+	public void setNullableField5(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField5(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField6Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField6Null();
+	}
+
+	public int getNullableField6()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField6Null()) MithraNullPrimitiveException.throwNew("nullableField6", data);
+		return data.getNullableField6();
+	}
+
+	public void setNullableField6(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField6(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField7Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField7Null();
+	}
+
+	public int getNullableField7()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField7Null()) MithraNullPrimitiveException.throwNew("nullableField7", data);
+		return data.getNullableField7();
+	}
+
+	public void setNullableField7(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField7(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField8Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField8Null();
+	}
+
+	public int getNullableField8()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField8Null()) MithraNullPrimitiveException.throwNew("nullableField8", data);
+		return data.getNullableField8();
+	}
+
+	public void setNullableField8(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField8(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField9Null()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isNullableField9Null();
+	}
+
+	public int getNullableField9()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField9Null()) MithraNullPrimitiveException.throwNew("nullableField9", data);
+		return data.getNullableField9();
+	}
+
+	public void setNullableField9(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField9(), newValue, false, false ,true);
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return ((TestObj32NullablesData) this.zSynchronizedGetData()).isObjectIdNull();
+	}
+
+	public int getObjectId()
+	{
+		TestObj32NullablesData data = (TestObj32NullablesData) this.zSynchronizedGetData();
+		return data.getObjectId();
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.objectId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField0(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField1(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField2(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField3(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField4(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField5(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField6(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField7(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField8(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField9(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField10(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField11(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField12(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField13(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField14(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField15(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField16(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField17(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField18(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField19(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField20(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField21(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField22(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField23(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField24(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField25(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField26(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField27(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField28(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField29(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField30(), false);
+		zNullify(behavior, data, TestObj32NullablesFinder.nullableField31(), false);
+	}
+
+	public void setNullableField0Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField0(), false);
+	}
+
+	public void setNullableField1Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField1(), false);
+	}
+
+	public void setNullableField2Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField2(), false);
+	}
+
+	public void setNullableField3Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField3(), false);
+	}
+
+	public void setNullableField4Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField4(), false);
+	}
+
+	public void setNullableField5Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField5(), false);
+	}
+
+	public void setNullableField6Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField6(), false);
+	}
+
+	public void setNullableField7Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField7(), false);
+	}
+
+	public void setNullableField8Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField8(), false);
+	}
+
+	public void setNullableField9Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField9(), false);
+	}
+
+	public void setNullableField10Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField10(), false);
+	}
+
+	public void setNullableField11Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField11(), false);
+	}
+
+	public void setNullableField12Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField12(), false);
+	}
+
+	public void setNullableField13Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField13(), false);
+	}
+
+	public void setNullableField14Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField14(), false);
+	}
+
+	public void setNullableField15Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField15(), false);
+	}
+
+	public void setNullableField16Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField16(), false);
+	}
+
+	public void setNullableField17Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField17(), false);
+	}
+
+	public void setNullableField18Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField18(), false);
+	}
+
+	public void setNullableField19Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField19(), false);
+	}
+
+	public void setNullableField20Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField20(), false);
+	}
+
+	public void setNullableField21Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField21(), false);
+	}
+
+	public void setNullableField22Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField22(), false);
+	}
+
+	public void setNullableField23Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField23(), false);
+	}
+
+	public void setNullableField24Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField24(), false);
+	}
+
+	public void setNullableField25Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField25(), false);
+	}
+
+	public void setNullableField26Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField26(), false);
+	}
+
+	public void setNullableField27Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField27(), false);
+	}
+
+	public void setNullableField28Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField28(), false);
+	}
+
+	public void setNullableField29Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField29(), false);
+	}
+
+	public void setNullableField30Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField30(), false);
+	}
+
+	public void setNullableField31Null()
+	{
+		zNullify(TestObj32NullablesFinder.nullableField31(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestObj32NullablesData _newData = (TestObj32NullablesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestObj32NullablesData _newData = (TestObj32NullablesData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestObj32NullablesData _newData = (TestObj32NullablesData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TestObj32Nullables zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestObj32Nullables original = (TestObj32Nullables) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestObj32NullablesFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestObj32NullablesFinder.getMithraObjectPortal();
+	}
+
+	public TestObj32Nullables getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField0(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField1(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField10(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField11(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField12(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField13(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField14(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField15(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField16(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField17(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField18(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField19(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField2(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField20(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField21(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField22(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField23(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField24(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField25(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField26(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField27(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField28(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField29(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField3(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField30(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField31(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField4(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField5(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField6(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField7(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField8(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.nullableField9(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestObj32NullablesFinder.objectId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestObj32NullablesAbstract result = (TestObj32NullablesAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
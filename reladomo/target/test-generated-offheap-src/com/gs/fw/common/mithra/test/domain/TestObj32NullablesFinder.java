@@ -0,0 +1,1285 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestObj32NullablesFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestObj32Nullables";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestObj32Nullables";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestObj32Nullables");
+	private static final TestObj32NullablesSingleFinder<TestObj32Nullables, Object, TestObj32Nullables> finder = new TestObj32NullablesSingleFinder<TestObj32Nullables, Object, TestObj32Nullables>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestObj32NullablesFinder.TestObj32NullablesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("objectId");
+		finderMethodMap.addNormalAttributeName("nullableField0");
+		finderMethodMap.addNormalAttributeName("nullableField1");
+		finderMethodMap.addNormalAttributeName("nullableField2");
+		finderMethodMap.addNormalAttributeName("nullableField3");
+		finderMethodMap.addNormalAttributeName("nullableField4");
+		finderMethodMap.addNormalAttributeName("nullableField5");
+		finderMethodMap.addNormalAttributeName("nullableField6");
+		finderMethodMap.addNormalAttributeName("nullableField7");
+		finderMethodMap.addNormalAttributeName("nullableField8");
+		finderMethodMap.addNormalAttributeName("nullableField9");
+		finderMethodMap.addNormalAttributeName("nullableField10");
+		finderMethodMap.addNormalAttributeName("nullableField11");
+		finderMethodMap.addNormalAttributeName("nullableField12");
+		finderMethodMap.addNormalAttributeName("nullableField13");
+		finderMethodMap.addNormalAttributeName("nullableField14");
+		finderMethodMap.addNormalAttributeName("nullableField15");
+		finderMethodMap.addNormalAttributeName("nullableField16");
+		finderMethodMap.addNormalAttributeName("nullableField17");
+		finderMethodMap.addNormalAttributeName("nullableField18");
+		finderMethodMap.addNormalAttributeName("nullableField19");
+		finderMethodMap.addNormalAttributeName("nullableField20");
+		finderMethodMap.addNormalAttributeName("nullableField21");
+		finderMethodMap.addNormalAttributeName("nullableField22");
+		finderMethodMap.addNormalAttributeName("nullableField23");
+		finderMethodMap.addNormalAttributeName("nullableField24");
+		finderMethodMap.addNormalAttributeName("nullableField25");
+		finderMethodMap.addNormalAttributeName("nullableField26");
+		finderMethodMap.addNormalAttributeName("nullableField27");
+		finderMethodMap.addNormalAttributeName("nullableField28");
+		finderMethodMap.addNormalAttributeName("nullableField29");
+		finderMethodMap.addNormalAttributeName("nullableField30");
+		finderMethodMap.addNormalAttributeName("nullableField31");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestObj32Nullables findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestObj32Nullables findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestObj32NullablesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestObj32NullablesList) finder.findMany(operation);
+	}
+
+	public static TestObj32NullablesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestObj32NullablesList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestObj32Nullables findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestObj32Nullables) FinderUtils.findOne(found);
+	}
+
+	public static TestObj32Nullables findByPrimaryKey(int objectId)
+	{
+		return finder.findByPrimaryKey(objectId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestObj32NullablesData _castedTargetData = (TestObj32NullablesData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getObjectId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TestObj32Nullables zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestObj32Nullables) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestObj32NullablesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestObj32Nullables, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> objectId;
+		private IntegerAttribute<ParentOwnerType> nullableField0;
+		private IntegerAttribute<ParentOwnerType> nullableField1;
+		private IntegerAttribute<ParentOwnerType> nullableField2;
+		private IntegerAttribute<ParentOwnerType> nullableField3;
+		private IntegerAttribute<ParentOwnerType> nullableField4;
+		private IntegerAttribute<ParentOwnerType> nullableField5;
+		private IntegerAttribute<ParentOwnerType> nullableField6;
+		private IntegerAttribute<ParentOwnerType> nullableField7;
+		private IntegerAttribute<ParentOwnerType> nullableField8;
+		private IntegerAttribute<ParentOwnerType> nullableField9;
+		private IntegerAttribute<ParentOwnerType> nullableField10;
+		private IntegerAttribute<ParentOwnerType> nullableField11;
+		private IntegerAttribute<ParentOwnerType> nullableField12;
+		private IntegerAttribute<ParentOwnerType> nullableField13;
+		private IntegerAttribute<ParentOwnerType> nullableField14;
+		private IntegerAttribute<ParentOwnerType> nullableField15;
+		private IntegerAttribute<ParentOwnerType> nullableField16;
+		private IntegerAttribute<ParentOwnerType> nullableField17;
+		private IntegerAttribute<ParentOwnerType> nullableField18;
+		private IntegerAttribute<ParentOwnerType> nullableField19;
+		private IntegerAttribute<ParentOwnerType> nullableField20;
+		private IntegerAttribute<ParentOwnerType> nullableField21;
+		private IntegerAttribute<ParentOwnerType> nullableField22;
+		private IntegerAttribute<ParentOwnerType> nullableField23;
+		private IntegerAttribute<ParentOwnerType> nullableField24;
+		private IntegerAttribute<ParentOwnerType> nullableField25;
+		private IntegerAttribute<ParentOwnerType> nullableField26;
+		private IntegerAttribute<ParentOwnerType> nullableField27;
+		private IntegerAttribute<ParentOwnerType> nullableField28;
+		private IntegerAttribute<ParentOwnerType> nullableField29;
+		private IntegerAttribute<ParentOwnerType> nullableField30;
+		private IntegerAttribute<ParentOwnerType> nullableField31;
+		public TestObj32NullablesRelatedFinder()
+		{
+			super();
+		}
+
+		public TestObj32NullablesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestObj32NullablesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestObj32NullablesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestObj32NullablesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestObj32NullablesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[33];
+			attributes[0] = this.objectId();
+			attributes[1] = this.nullableField0();
+			attributes[2] = this.nullableField1();
+			attributes[3] = this.nullableField2();
+			attributes[4] = this.nullableField3();
+			attributes[5] = this.nullableField4();
+			attributes[6] = this.nullableField5();
+			attributes[7] = this.nullableField6();
+			attributes[8] = this.nullableField7();
+			attributes[9] = this.nullableField8();
+			attributes[10] = this.nullableField9();
+			attributes[11] = this.nullableField10();
+			attributes[12] = this.nullableField11();
+			attributes[13] = this.nullableField12();
+			attributes[14] = this.nullableField13();
+			attributes[15] = this.nullableField14();
+			attributes[16] = this.nullableField15();
+			attributes[17] = this.nullableField16();
+			attributes[18] = this.nullableField17();
+			attributes[19] = this.nullableField18();
+			attributes[20] = this.nullableField19();
+			attributes[21] = this.nullableField20();
+			attributes[22] = this.nullableField21();
+			attributes[23] = this.nullableField22();
+			attributes[24] = this.nullableField23();
+			attributes[25] = this.nullableField24();
+			attributes[26] = this.nullableField25();
+			attributes[27] = this.nullableField26();
+			attributes[28] = this.nullableField27();
+			attributes[29] = this.nullableField28();
+			attributes[30] = this.nullableField29();
+			attributes[31] = this.nullableField30();
+			attributes[32] = this.nullableField31();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestObj32Nullables findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestObj32NullablesFinder.findOne(operation, false);
+		}
+
+		public TestObj32Nullables findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestObj32NullablesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestObj32Nullables> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestObj32NullablesList((Operation) operation);
+		}
+
+		public MithraList<? extends TestObj32Nullables> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestObj32NullablesList result = (TestObj32NullablesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestObj32Nullables> constructEmptyList()
+		{
+			return new TestObj32NullablesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 568796741;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> objectId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.objectId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBJ_ID","","objectId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.objectId(), this.mapper, this.zGetValueSelector());
+				this.objectId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField0()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField0;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD0","","nullableField0",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField0(), this.mapper, this.zGetValueSelector());
+				this.nullableField0 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField1()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField1;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD1","","nullableField1",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField1(), this.mapper, this.zGetValueSelector());
+				this.nullableField1 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField2()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField2;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD2","","nullableField2",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField2(), this.mapper, this.zGetValueSelector());
+				this.nullableField2 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField3()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField3;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD3","","nullableField3",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField3(), this.mapper, this.zGetValueSelector());
+				this.nullableField3 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField4()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField4;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD4","","nullableField4",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField4(), this.mapper, this.zGetValueSelector());
+				this.nullableField4 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField5()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField5;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD5","","nullableField5",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField5(), this.mapper, this.zGetValueSelector());
+				this.nullableField5 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField6()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField6;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD6","","nullableField6",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField6(), this.mapper, this.zGetValueSelector());
+				this.nullableField6 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField7()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField7;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD7","","nullableField7",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField7(), this.mapper, this.zGetValueSelector());
+				this.nullableField7 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField8()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField8;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD8","","nullableField8",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField8(), this.mapper, this.zGetValueSelector());
+				this.nullableField8 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField9()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField9;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD9","","nullableField9",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField9(), this.mapper, this.zGetValueSelector());
+				this.nullableField9 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField10()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField10;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD10","","nullableField10",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField10(), this.mapper, this.zGetValueSelector());
+				this.nullableField10 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField11()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField11;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD11","","nullableField11",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField11(), this.mapper, this.zGetValueSelector());
+				this.nullableField11 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField12()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField12;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD12","","nullableField12",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField12(), this.mapper, this.zGetValueSelector());
+				this.nullableField12 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField13()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField13;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD13","","nullableField13",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField13(), this.mapper, this.zGetValueSelector());
+				this.nullableField13 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField14()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField14;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD14","","nullableField14",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField14(), this.mapper, this.zGetValueSelector());
+				this.nullableField14 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField15()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField15;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD15","","nullableField15",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField15(), this.mapper, this.zGetValueSelector());
+				this.nullableField15 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField16()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField16;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD16","","nullableField16",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField16(), this.mapper, this.zGetValueSelector());
+				this.nullableField16 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField17()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField17;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD17","","nullableField17",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField17(), this.mapper, this.zGetValueSelector());
+				this.nullableField17 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField18()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField18;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD18","","nullableField18",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField18(), this.mapper, this.zGetValueSelector());
+				this.nullableField18 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField19()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField19;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD19","","nullableField19",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField19(), this.mapper, this.zGetValueSelector());
+				this.nullableField19 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField20()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField20;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD20","","nullableField20",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField20(), this.mapper, this.zGetValueSelector());
+				this.nullableField20 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField21()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField21;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD21","","nullableField21",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField21(), this.mapper, this.zGetValueSelector());
+				this.nullableField21 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField22()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField22;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD22","","nullableField22",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField22(), this.mapper, this.zGetValueSelector());
+				this.nullableField22 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField23()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField23;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD23","","nullableField23",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField23(), this.mapper, this.zGetValueSelector());
+				this.nullableField23 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField24()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField24;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD24","","nullableField24",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField24(), this.mapper, this.zGetValueSelector());
+				this.nullableField24 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField25()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField25;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD25","","nullableField25",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField25(), this.mapper, this.zGetValueSelector());
+				this.nullableField25 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField26()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField26;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD26","","nullableField26",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField26(), this.mapper, this.zGetValueSelector());
+				this.nullableField26 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField27()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField27;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD27","","nullableField27",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField27(), this.mapper, this.zGetValueSelector());
+				this.nullableField27 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField28()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField28;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD28","","nullableField28",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField28(), this.mapper, this.zGetValueSelector());
+				this.nullableField28 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField29()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField29;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD29","","nullableField29",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField29(), this.mapper, this.zGetValueSelector());
+				this.nullableField29 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField30()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField30;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD30","","nullableField30",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField30(), this.mapper, this.zGetValueSelector());
+				this.nullableField30 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableField31()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableField31;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_FIELD31","","nullableField31",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestObj32NullablesFinder.nullableField31(), this.mapper, this.zGetValueSelector());
+				this.nullableField31 = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestObj32NullablesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestObj32NullablesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestObj32NullablesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestObj32NullablesRelatedFinder<ParentOwnerType, ReturnType, TestObj32NullablesList, OwnerType>
+	{
+		public TestObj32NullablesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestObj32NullablesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestObj32NullablesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestObj32NullablesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestObj32NullablesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestObj32NullablesRelatedFinder<ParentOwnerType, ReturnType, TestObj32NullablesList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestObj32NullablesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestObj32NullablesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestObj32Nullables other)
+		{
+			return this.objectId().eq(other.getObjectId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestObj32Nullables findByPrimaryKey(int objectId)
+		{
+			TestObj32Nullables _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(objectId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestObj32Nullables) _related;
+			if (_related == null)
+			{
+				_op = this.objectId().eq(objectId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestObj32NullablesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestObj32NullablesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestObj32NullablesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TEST_OBJ_32NULL.OBJ_ID **/
+	public static IntegerAttribute<TestObj32Nullables> objectId()
+	{
+		return finder.objectId();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD0 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField0()
+	{
+		return finder.nullableField0();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD1 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField1()
+	{
+		return finder.nullableField1();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD2 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField2()
+	{
+		return finder.nullableField2();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD3 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField3()
+	{
+		return finder.nullableField3();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD4 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField4()
+	{
+		return finder.nullableField4();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD5 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField5()
+	{
+		return finder.nullableField5();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD6 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField6()
+	{
+		return finder.nullableField6();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD7 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField7()
+	{
+		return finder.nullableField7();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD8 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField8()
+	{
+		return finder.nullableField8();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD9 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField9()
+	{
+		return finder.nullableField9();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD10 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField10()
+	{
+		return finder.nullableField10();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD11 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField11()
+	{
+		return finder.nullableField11();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD12 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField12()
+	{
+		return finder.nullableField12();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD13 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField13()
+	{
+		return finder.nullableField13();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD14 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField14()
+	{
+		return finder.nullableField14();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD15 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField15()
+	{
+		return finder.nullableField15();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD16 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField16()
+	{
+		return finder.nullableField16();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD17 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField17()
+	{
+		return finder.nullableField17();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD18 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField18()
+	{
+		return finder.nullableField18();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD19 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField19()
+	{
+		return finder.nullableField19();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD20 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField20()
+	{
+		return finder.nullableField20();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD21 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField21()
+	{
+		return finder.nullableField21();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD22 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField22()
+	{
+		return finder.nullableField22();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD23 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField23()
+	{
+		return finder.nullableField23();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD24 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField24()
+	{
+		return finder.nullableField24();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD25 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField25()
+	{
+		return finder.nullableField25();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD26 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField26()
+	{
+		return finder.nullableField26();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD27 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField27()
+	{
+		return finder.nullableField27();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD28 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField28()
+	{
+		return finder.nullableField28();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD29 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField29()
+	{
+		return finder.nullableField29();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD30 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField30()
+	{
+		return finder.nullableField30();
+	}
+
+	/** maps to TEST_OBJ_32NULL.NULL_FIELD31 **/
+	public static IntegerAttribute<TestObj32Nullables> nullableField31()
+	{
+		return finder.nullableField31();
+	}
+
+	public static Operation eq(TestObj32Nullables other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(objectId());
+	}
+
+	public static TestObj32NullablesSingleFinder<TestObj32Nullables, Object, TestObj32Nullables> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			objectId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			objectId()
+			, objectId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestObj32Nullables");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,450 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestObj32NullablesListAbstract extends DelegatingList<TestObj32Nullables> implements MithraTransactionalList<TestObj32Nullables>
+{
+	public TestObj32NullablesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestObj32NullablesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestObj32NullablesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestObj32NullablesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestObj32Nullables[] elements()
+	{
+		TestObj32Nullables[] result = new TestObj32Nullables[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestObj32NullablesList intersection(TestObj32NullablesList another)
+	{
+		return (TestObj32NullablesList)super.intersection(another);
+	}
+
+	public TestObj32Nullables getTestObj32NullablesAt(int index)
+	{
+		return (TestObj32Nullables)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestObj32NullablesFinder.getMithraObjectPortal();
+	}
+
+	public TestObj32NullablesList getNonPersistentCopy()
+	{
+		TestObj32NullablesList result = new TestObj32NullablesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestObj32NullablesList asAdhoc()
+	{
+		return (TestObj32NullablesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestObj32Nullables> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestObj32NullablesList merge(MithraTransactionalList<TestObj32Nullables> incoming, TopLevelMergeOptions<TestObj32Nullables> mergeOptions)
+	{
+		return (TestObj32NullablesList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestObj32NullablesList getDetachedCopy()
+	{
+		TestObj32NullablesList result = new TestObj32NullablesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.objectId(), newValue);
+	}
+
+	public void setNullableField0(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField0(), newValue);
+	}
+
+	public void setNullableField1(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField1(), newValue);
+	}
+
+	public void setNullableField2(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField2(), newValue);
+	}
+
+	public void setNullableField3(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField3(), newValue);
+	}
+
+	public void setNullableField4(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField4(), newValue);
+	}
+
+	public void setNullableField5(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField5(), newValue);
+	}
+
+	public void setNullableField6(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField6(), newValue);
+	}
+
+	public void setNullableField7(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField7(), newValue);
+	}
+
+	public void setNullableField8(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField8(), newValue);
+	}
+
+	public void setNullableField9(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField9(), newValue);
+	}
+
+	public void setNullableField10(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField10(), newValue);
+	}
+
+	public void setNullableField11(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField11(), newValue);
+	}
+
+	public void setNullableField12(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField12(), newValue);
+	}
+
+	public void setNullableField13(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField13(), newValue);
+	}
+
+	public void setNullableField14(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField14(), newValue);
+	}
+
+	public void setNullableField15(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField15(), newValue);
+	}
+
+	public void setNullableField16(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField16(), newValue);
+	}
+
+	public void setNullableField17(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField17(), newValue);
+	}
+
+	public void setNullableField18(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField18(), newValue);
+	}
+
+	public void setNullableField19(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField19(), newValue);
+	}
+
+	public void setNullableField20(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField20(), newValue);
+	}
+
+	public void setNullableField21(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField21(), newValue);
+	}
+
+	public void setNullableField22(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField22(), newValue);
+	}
+
+	public void setNullableField23(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField23(), newValue);
+	}
+
+	public void setNullableField24(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField24(), newValue);
+	}
+
+	public void setNullableField25(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField25(), newValue);
+	}
+
+	public void setNullableField26(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField26(), newValue);
+	}
+
+	public void setNullableField27(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField27(), newValue);
+	}
+
+	public void setNullableField28(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField28(), newValue);
+	}
+
+	public void setNullableField29(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField29(), newValue);
+	}
+
+	public void setNullableField30(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField30(), newValue);
+	}
+
+	public void setNullableField31(int newValue)
+	{
+		zSetInteger(TestObj32NullablesFinder.nullableField31(), newValue);
+	}
+
+	public void setNullableField0Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField0());
+	}
+
+	public void setNullableField1Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField1());
+	}
+
+	public void setNullableField2Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField2());
+	}
+
+	public void setNullableField3Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField3());
+	}
+
+	public void setNullableField4Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField4());
+	}
+
+	public void setNullableField5Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField5());
+	}
+
+	public void setNullableField6Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField6());
+	}
+
+	public void setNullableField7Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField7());
+	}
+
+	public void setNullableField8Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField8());
+	}
+
+	public void setNullableField9Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField9());
+	}
+
+	public void setNullableField10Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField10());
+	}
+
+	public void setNullableField11Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField11());
+	}
+
+	public void setNullableField12Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField12());
+	}
+
+	public void setNullableField13Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField13());
+	}
+
+	public void setNullableField14Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField14());
+	}
+
+	public void setNullableField15Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField15());
+	}
+
+	public void setNullableField16Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField16());
+	}
+
+	public void setNullableField17Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField17());
+	}
+
+	public void setNullableField18Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField18());
+	}
+
+	public void setNullableField19Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField19());
+	}
+
+	public void setNullableField20Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField20());
+	}
+
+	public void setNullableField21Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField21());
+	}
+
+	public void setNullableField22Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField22());
+	}
+
+	public void setNullableField23Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField23());
+	}
+
+	public void setNullableField24Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField24());
+	}
+
+	public void setNullableField25Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField25());
+	}
+
+	public void setNullableField26Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField26());
+	}
+
+	public void setNullableField27Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField27());
+	}
+
+	public void setNullableField28Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField28());
+	}
+
+	public void setNullableField29Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField29());
+	}
+
+	public void setNullableField30Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField30());
+	}
+
+	public void setNullableField31Null()
+	{
+		zSetAttributeNull(TestObj32NullablesFinder.nullableField31());
+	}
+}
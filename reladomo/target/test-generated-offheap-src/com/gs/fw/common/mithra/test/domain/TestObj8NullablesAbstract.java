@@ -0,0 +1,422 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestObj8NullablesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestObj8Nullables.class.getName());
+	public TestObj8NullablesAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestObj8Nullables getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestObj8Nullables) super.getDetachedCopy();
+	}
+
+	public TestObj8Nullables getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestObj8Nullables result = (TestObj8Nullables) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestObj8Nullables copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestObj8Nullables) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestObj8Nullables zFindOriginal()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.currentData;
+		Operation op;
+		op = TestObj8NullablesFinder.objectId().eq(data.getObjectId());
+		return TestObj8NullablesFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestObj8NullablesData();
+	}
+
+	protected void zSetFromTestObj8NullablesData( TestObj8NullablesData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestObj8NullablesData( TestObj8NullablesData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isNullableField0Null()
+	{
+		return ((TestObj8NullablesData) this.zSynchronizedGetData()).isNullableField0Null();
+	}
+
+	public int getNullableField0()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField0Null()) MithraNullPrimitiveException.throwNew("nullableField0", data);
+		return data.getNullableField0();
+	}
+
+	public void setNullableField0(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField0(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField1Null()
+	{
+		return ((TestObj8NullablesData) this.zSynchronizedGetData()).isNullableField1Null();
+	}
+
+	public int getNullableField1()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField1Null()) MithraNullPrimitiveException.throwNew("nullableField1", data);
+		return data.getNullableField1();
+	}
+
+	public void setNullableField1(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField1(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField2Null()
+	{
+		return ((TestObj8NullablesData) this.zSynchronizedGetData()).isNullableField2Null();
+	}
+
+	public int getNullableField2()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField2Null()) MithraNullPrimitiveException.throwNew("nullableField2", data);
+		return data.getNullableField2();
+	}
+
+	public void setNullableField2(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField2(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField3Null()
+	{
+		return ((TestObj8NullablesData) this.zSynchronizedGetData()).isNullableField3Null();
+	}
+
+	public int getNullableField3()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField3Null()) MithraNullPrimitiveException.throwNew("nullableField3", data);
+		return data.getNullableField3();
+	}
+
+	public void setNullableField3(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField3(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField4Null()
+	{
+		return ((TestObj8NullablesData) this.zSynchronizedGetData()).isNullableField4Null();
+	}
+
+	public int getNullableField4()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField4Null()) MithraNullPrimitiveException.throwNew("nullableField4", data);
+		return data.getNullableField4();
+	}
+
+	public void setNullableField4(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField4(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField5Null()
+	{
+		return ((TestObj8NullablesData) this.zSynchronizedGetData()).isNullableField5Null();
+	}
+
+	public int getNullableField5()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField5Null()) MithraNullPrimitiveException.throwNew("nullableField5", data);
+		return data.getNullableField5();
+	}
+
+	public void setNullableField5(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField5(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField6Null()
+	{
+		return ((TestObj8NullablesData) this.zSynchronizedGetData()).isNullableField6Null();
+	}
+
+	public int getNullableField6()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField6Null()) MithraNullPrimitiveException.throwNew("nullableField6", data);
+		return data.getNullableField6();
+	}
+
+	public void setNullableField6(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField6(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField7Null()
+	{
+		return ((TestObj8NullablesData) this.zSynchronizedGetData()).isNullableField7Null();
+	}
+
+	public int getNullableField7()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField7Null()) MithraNullPrimitiveException.throwNew("nullableField7", data);
+		return data.getNullableField7();
+	}
+
+	public void setNullableField7(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField7(), newValue, false, false ,true);
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return ((TestObj8NullablesData) this.zSynchronizedGetData()).isObjectIdNull();
+	}
+
+	public int getObjectId()
+	{
+		TestObj8NullablesData data = (TestObj8NullablesData) this.zSynchronizedGetData();
+		return data.getObjectId();
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.objectId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, TestObj8NullablesFinder.nullableField0(), false);
+		zNullify(behavior, data, TestObj8NullablesFinder.nullableField1(), false);
+		zNullify(behavior, data, TestObj8NullablesFinder.nullableField2(), false);
+		zNullify(behavior, data, TestObj8NullablesFinder.nullableField3(), false);
+		zNullify(behavior, data, TestObj8NullablesFinder.nullableField4(), false);
+		zNullify(behavior, data, TestObj8NullablesFinder.nullableField5(), false);
+		zNullify(behavior, data, TestObj8NullablesFinder.nullableField6(), false);
+		zNullify(behavior, data, TestObj8NullablesFinder.nullableField7(), false);
+	}
+
+	public void setNullableField0Null()
+	{
+		zNullify(TestObj8NullablesFinder.nullableField0(), false);
+	}
+
+	public void setNullableField1Null()
+	{
+		zNullify(TestObj8NullablesFinder.nullableField1(), false);
+	}
+
+	public void setNullableField2Null()
+	{
+		zNullify(TestObj8NullablesFinder.nullableField2(), false);
+	}
+
+	public void setNullableField3Null()
+	{
+		zNullify(TestObj8NullablesFinder.nullableField3(), false);
+	}
+
+	public void setNullableField4Null()
+	{
+		zNullify(TestObj8NullablesFinder.nullableField4(), false);
+	}
+
+	public void setNullableField5Null()
+	{
+		zNullify(TestObj8NullablesFinder.nullableField5(), false);
+	}
+
+	public void setNullableField6Null()
+	{
+		zNullify(TestObj8NullablesFinder.nullableField6(), false);
+	}
+
+	public void setNullableField7Null()
+	{
+		zNullify(TestObj8NullablesFinder.nullableField7(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestObj8NullablesData _newData = (TestObj8NullablesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestObj8NullablesData _newData = (TestObj8NullablesData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestObj8NullablesData _newData = (TestObj8NullablesData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TestObj8Nullables zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestObj8Nullables original = (TestObj8Nullables) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestObj8NullablesFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestObj8NullablesFinder.getMithraObjectPortal();
+	}
+
+	public TestObj8Nullables getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestObj8NullablesFinder.nullableField0(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj8NullablesFinder.nullableField1(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj8NullablesFinder.nullableField2(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj8NullablesFinder.nullableField3(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj8NullablesFinder.nullableField4(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj8NullablesFinder.nullableField5(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj8NullablesFinder.nullableField6(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj8NullablesFinder.nullableField7(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestObj8NullablesFinder.objectId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestObj8NullablesAbstract result = (TestObj8NullablesAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,501 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestObj8NullablesData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private int nullableField0;
+	private int nullableField1;
+	private int nullableField2;
+	private int nullableField3;
+	private int nullableField4;
+	private int nullableField5;
+	private int nullableField6;
+	private int nullableField7;
+	private int objectId;
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNullableField0Null()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isNullableField1Null()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isNullableField2Null()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isNullableField3Null()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isNullableField4Null()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isNullableField5Null()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isNullableField6Null()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isNullableField7Null()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.nullableField0);
+		out.writeInt(this.nullableField1);
+		out.writeInt(this.nullableField2);
+		out.writeInt(this.nullableField3);
+		out.writeInt(this.nullableField4);
+		out.writeInt(this.nullableField5);
+		out.writeInt(this.nullableField6);
+		out.writeInt(this.nullableField7);
+		out.writeInt(this.objectId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public int getNullableField0()
+	{
+		return this.nullableField0;
+	}
+
+	public void setNullableField0(int value)
+	{
+		this.nullableField0 = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getNullableField1()
+	{
+		return this.nullableField1;
+	}
+
+	public void setNullableField1(int value)
+	{
+		this.nullableField1 = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getNullableField2()
+	{
+		return this.nullableField2;
+	}
+
+	public void setNullableField2(int value)
+	{
+		this.nullableField2 = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getNullableField3()
+	{
+		return this.nullableField3;
+	}
+
+	public void setNullableField3(int value)
+	{
+		this.nullableField3 = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getNullableField4()
+	{
+		return this.nullableField4;
+	}
+
+	public void setNullableField4(int value)
+	{
+		this.nullableField4 = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public int getNullableField5()
+	{
+		return this.nullableField5;
+	}
+
+	public void setNullableField5(int value)
+	{
+		this.nullableField5 = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public int getNullableField6()
+	{
+		return this.nullableField6;
+	}
+
+	public void setNullableField6(int value)
+	{
+		this.nullableField6 = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public int getNullableField7()
+	{
+		return this.nullableField7;
+	}
+
+	public void setNullableField7(int value)
+	{
+		this.nullableField7 = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	public int getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(int value)
+	{
+		this.objectId = value;
+	}
+
+	public void setObjectIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void setNullableField0Null()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setNullableField1Null()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setNullableField2Null()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setNullableField3Null()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setNullableField4Null()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setNullableField5Null()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setNullableField6Null()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+	}
+
+	public void setNullableField7Null()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 7);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(TestObj8NullablesData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.nullableField0 = this.nullableField0;
+		copy.nullableField1 = this.nullableField1;
+		copy.nullableField2 = this.nullableField2;
+		copy.nullableField3 = this.nullableField3;
+		copy.nullableField4 = this.nullableField4;
+		copy.nullableField5 = this.nullableField5;
+		copy.nullableField6 = this.nullableField6;
+		copy.nullableField7 = this.nullableField7;
+		copy.objectId = this.objectId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.nullableField0 = in.readInt();
+		this.nullableField1 = in.readInt();
+		this.nullableField2 = in.readInt();
+		this.nullableField3 = in.readInt();
+		this.nullableField4 = in.readInt();
+		this.nullableField5 = in.readInt();
+		this.nullableField6 = in.readInt();
+		this.nullableField7 = in.readInt();
+		this.objectId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TestObj8NullablesData otherData = (TestObj8NullablesData) other;
+		if (getObjectId() != otherData.getObjectId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.objectId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.objectId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TestObj8NullablesData testObj8NullablesData = (TestObj8NullablesData) newData;
+		this.setNullableField0(testObj8NullablesData.getNullableField0());
+		if (testObj8NullablesData.isNullableField0Null()) this.setNullableField0Null();
+		this.setNullableField1(testObj8NullablesData.getNullableField1());
+		if (testObj8NullablesData.isNullableField1Null()) this.setNullableField1Null();
+		this.setNullableField2(testObj8NullablesData.getNullableField2());
+		if (testObj8NullablesData.isNullableField2Null()) this.setNullableField2Null();
+		this.setNullableField3(testObj8NullablesData.getNullableField3());
+		if (testObj8NullablesData.isNullableField3Null()) this.setNullableField3Null();
+		this.setNullableField4(testObj8NullablesData.getNullableField4());
+		if (testObj8NullablesData.isNullableField4Null()) this.setNullableField4Null();
+		this.setNullableField5(testObj8NullablesData.getNullableField5());
+		if (testObj8NullablesData.isNullableField5Null()) this.setNullableField5Null();
+		this.setNullableField6(testObj8NullablesData.getNullableField6());
+		if (testObj8NullablesData.isNullableField6Null()) this.setNullableField6Null();
+		this.setNullableField7(testObj8NullablesData.getNullableField7());
+		if (testObj8NullablesData.isNullableField7Null()) this.setNullableField7Null();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TestObj8NullablesData other = (TestObj8NullablesData) newData;
+		if ( isNullableField0Null() != other.isNullableField0Null() || getNullableField0() != other.getNullableField0())
+		{
+			return true;
+		}
+
+		if ( isNullableField1Null() != other.isNullableField1Null() || getNullableField1() != other.getNullableField1())
+		{
+			return true;
+		}
+
+		if ( isNullableField2Null() != other.isNullableField2Null() || getNullableField2() != other.getNullableField2())
+		{
+			return true;
+		}
+
+		if ( isNullableField3Null() != other.isNullableField3Null() || getNullableField3() != other.getNullableField3())
+		{
+			return true;
+		}
+
+		if ( isNullableField4Null() != other.isNullableField4Null() || getNullableField4() != other.getNullableField4())
+		{
+			return true;
+		}
+
+		if ( isNullableField5Null() != other.isNullableField5Null() || getNullableField5() != other.getNullableField5())
+		{
+			return true;
+		}
+
+		if ( isNullableField6Null() != other.isNullableField6Null() || getNullableField6() != other.getNullableField6())
+		{
+			return true;
+		}
+
+		if ( isNullableField7Null() != other.isNullableField7Null() || getNullableField7() != other.getNullableField7())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TestObj8NullablesData copy = new TestObj8NullablesData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TestObj8NullablesData copy = new TestObj8NullablesData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestObj8NullablesData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TestObj8NullablesFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TestObj8NullablesFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestObj8NullablesData";
+	}
+}
@@ -0,0 +1,210 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestObj8NullablesListAbstract extends DelegatingList<TestObj8Nullables> implements MithraTransactionalList<TestObj8Nullables>
+{
+	public TestObj8NullablesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestObj8NullablesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestObj8NullablesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestObj8NullablesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestObj8Nullables[] elements()
+	{
+		TestObj8Nullables[] result = new TestObj8Nullables[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestObj8NullablesList intersection(TestObj8NullablesList another)
+	{
+		return (TestObj8NullablesList)super.intersection(another);
+	}
+
+	public TestObj8Nullables getTestObj8NullablesAt(int index)
+	{
+		return (TestObj8Nullables)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestObj8NullablesFinder.getMithraObjectPortal();
+	}
+
+	public TestObj8NullablesList getNonPersistentCopy()
+	{
+		TestObj8NullablesList result = new TestObj8NullablesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestObj8NullablesList asAdhoc()
+	{
+		return (TestObj8NullablesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestObj8Nullables> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestObj8NullablesList merge(MithraTransactionalList<TestObj8Nullables> incoming, TopLevelMergeOptions<TestObj8Nullables> mergeOptions)
+	{
+		return (TestObj8NullablesList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestObj8NullablesList getDetachedCopy()
+	{
+		TestObj8NullablesList result = new TestObj8NullablesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.objectId(), newValue);
+	}
+
+	public void setNullableField0(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField0(), newValue);
+	}
+
+	public void setNullableField1(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField1(), newValue);
+	}
+
+	public void setNullableField2(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField2(), newValue);
+	}
+
+	public void setNullableField3(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField3(), newValue);
+	}
+
+	public void setNullableField4(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField4(), newValue);
+	}
+
+	public void setNullableField5(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField5(), newValue);
+	}
+
+	public void setNullableField6(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField6(), newValue);
+	}
+
+	public void setNullableField7(int newValue)
+	{
+		zSetInteger(TestObj8NullablesFinder.nullableField7(), newValue);
+	}
+
+	public void setNullableField0Null()
+	{
+		zSetAttributeNull(TestObj8NullablesFinder.nullableField0());
+	}
+
+	public void setNullableField1Null()
+	{
+		zSetAttributeNull(TestObj8NullablesFinder.nullableField1());
+	}
+
+	public void setNullableField2Null()
+	{
+		zSetAttributeNull(TestObj8NullablesFinder.nullableField2());
+	}
+
+	public void setNullableField3Null()
+	{
+		zSetAttributeNull(TestObj8NullablesFinder.nullableField3());
+	}
+
+	public void setNullableField4Null()
+	{
+		zSetAttributeNull(TestObj8NullablesFinder.nullableField4());
+	}
+
+	public void setNullableField5Null()
+	{
+		zSetAttributeNull(TestObj8NullablesFinder.nullableField5());
+	}
+
+	public void setNullableField6Null()
+	{
+		zSetAttributeNull(TestObj8NullablesFinder.nullableField6());
+	}
+
+	public void setNullableField7Null()
+	{
+		zSetAttributeNull(TestObj8NullablesFinder.nullableField7());
+	}
+}
@@ -0,0 +1,540 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestOverlapBusinessDateMilestonedAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericNonAuditedTemporalDirector(
+		TestOverlapBusinessDateMilestonedFinder.businessDate()
+	, TestOverlapBusinessDateMilestonedFinder.zGetDoubleAttributes(),TestOverlapBusinessDateMilestonedFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestOverlapBusinessDateMilestoned.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestOverlapBusinessDateMilestonedAbstract(Timestamp businessDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestOverlapBusinessDateMilestonedFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestOverlapBusinessDateMilestonedData zSynchronizedGetData()
+	{
+		return (TestOverlapBusinessDateMilestonedData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestOverlapBusinessDateMilestonedFinder.businessDate().dataMatches(current, this.businessDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestOverlapBusinessDateMilestoned zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestOverlapBusinessDateMilestoned original = (TestOverlapBusinessDateMilestoned) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public void inactivateForArchiving(Timestamp processingDateTo, Timestamp businessDateTo) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("inactivateForArchiving is only supported for dated objects with a processing date");
+	}
+
+	public TestOverlapBusinessDateMilestoned copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestOverlapBusinessDateMilestoned) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestOverlapBusinessDateMilestoned copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestOverlapBusinessDateMilestoned) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			true);
+	}
+
+	public TestOverlapBusinessDateMilestoned getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		TestOverlapBusinessDateMilestonedAbstract result = (TestOverlapBusinessDateMilestonedAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestOverlapBusinessDateMilestoned ) result;
+	}
+
+	public TestOverlapBusinessDateMilestoned zFindOriginal()
+	{
+		TestOverlapBusinessDateMilestonedData data = (TestOverlapBusinessDateMilestonedData) this.currentData;
+		Operation op;
+		op = TestOverlapBusinessDateMilestonedFinder.overlapId().eq(data.getOverlapId());
+		op = op.and(TestOverlapBusinessDateMilestonedFinder.businessDate().eq(this.getBusinessDate()));
+		return TestOverlapBusinessDateMilestonedFinder.findOne(op);
+	}
+
+	public TestOverlapBusinessDateMilestoned getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		TestOverlapBusinessDateMilestonedAbstract result = (TestOverlapBusinessDateMilestonedAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestOverlapBusinessDateMilestoned ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestOverlapBusinessDateMilestoned copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestOverlapBusinessDateMilestoned) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestOverlapBusinessDateMilestoned copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestOverlapBusinessDateMilestoned) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestOverlapBusinessDateMilestonedData data = (TestOverlapBusinessDateMilestonedData) this.currentData;
+			Operation op = TestOverlapBusinessDateMilestonedFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestOverlapBusinessDateMilestonedFinder.overlapId().eq(data.getOverlapId()));
+			return TestOverlapBusinessDateMilestonedFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestOverlapBusinessDateMilestonedData data = (TestOverlapBusinessDateMilestonedData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestOverlapBusinessDateMilestonedData data = (TestOverlapBusinessDateMilestonedData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isOverlapIdNull()
+	{
+		return this.zSynchronizedGetData().isOverlapIdNull();
+	}
+
+	public boolean isTypeNull()
+	{
+		return this.zSynchronizedGetData().isTypeNull();
+	}
+
+	public boolean isUserNull()
+	{
+		return this.zSynchronizedGetData().isUserNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapBusinessDateMilestonedFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapBusinessDateMilestonedFinder.businessDateTo(), newValue, false );
+	}
+
+	public long getOverlapId()
+	{
+		return this.zSynchronizedGetData().getOverlapId();
+	}
+
+	public void setOverlapId(long newValue)
+	{
+		zSetLong(TestOverlapBusinessDateMilestonedFinder.overlapId(), newValue, true ,false);
+	}
+
+	public void setOverlapIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(TestOverlapBusinessDateMilestonedFinder.overlapId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public String getType()
+	{
+		return this.zSynchronizedGetData().getType();
+	}
+
+	public void setType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'type' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestOverlapBusinessDateMilestonedFinder.type(), newValue, false );
+	}
+
+	public void setTypeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'type' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestOverlapBusinessDateMilestonedFinder.type(), newValue, false , exclusiveUntil);
+	}
+
+	public String getUser()
+	{
+		return this.zSynchronizedGetData().getUser();
+	}
+
+	public void setUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'user' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestOverlapBusinessDateMilestonedFinder.user(), newValue, false );
+	}
+
+	public void setUserUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'user' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestOverlapBusinessDateMilestonedFinder.user(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestOverlapBusinessDateMilestonedData data2 = (TestOverlapBusinessDateMilestonedData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestOverlapBusinessDateMilestonedData _newData = (TestOverlapBusinessDateMilestonedData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestOverlapBusinessDateMilestonedData _newData = (TestOverlapBusinessDateMilestonedData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestOverlapBusinessDateMilestonedData _newData = (TestOverlapBusinessDateMilestonedData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestOverlapBusinessDateMilestonedData.TestOverlapBusinessDateMilestonedDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestOverlapBusinessDateMilestonedData data = (TestOverlapBusinessDateMilestonedData) TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestOverlapBusinessDateMilestoned has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestOverlapBusinessDateMilestonedData( TestOverlapBusinessDateMilestonedData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestOverlapBusinessDateMilestonedData( TestOverlapBusinessDateMilestonedData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal();
+	}
+
+	public TestOverlapBusinessDateMilestoned getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestOverlapBusinessDateMilestonedAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestOverlapBusinessDateMilestonedAbstract from = (TestOverlapBusinessDateMilestonedAbstract) f;
+		TestOverlapBusinessDateMilestonedData newData = from.zSynchronizedGetData();
+		this.setType(newData.getType());
+		this.setUser(newData.getUser());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestOverlapBusinessDateMilestonedData _newData = (TestOverlapBusinessDateMilestonedData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestOverlapBusinessDateMilestonedData _newData = (TestOverlapBusinessDateMilestonedData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestOverlapBusinessDateMilestonedAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestOverlapBusinessDateMilestonedAbstract from = (TestOverlapBusinessDateMilestonedAbstract)f;
+		TestOverlapBusinessDateMilestonedData newData = from.zSynchronizedGetData();
+		this.setTypeUntil(newData.getType(), exclusiveUntil);
+		this.setUserUntil(newData.getUser(), exclusiveUntil);
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, TestOverlapBusinessDateMilestonedFinder.overlapId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestOverlapBusinessDateMilestonedFinder.type(), false);
+		changed |= zUpdateString(behavior, data, newData, TestOverlapBusinessDateMilestonedFinder.user(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, TestOverlapBusinessDateMilestonedFinder.overlapId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestOverlapBusinessDateMilestonedFinder.type(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestOverlapBusinessDateMilestonedFinder.user(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestOverlapBusinessDateMilestonedData data = ((TestOverlapBusinessDateMilestonedData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestOverlapBusinessDateMilestonedData data = ((TestOverlapBusinessDateMilestonedData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestOverlapBusinessDateMilestonedData data = ((TestOverlapBusinessDateMilestonedData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestOverlapBusinessDateMilestonedFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestOverlapBusinessDateMilestonedData localData = (TestOverlapBusinessDateMilestonedData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,829 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestOverlapBusinessDateMilestonedData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 36;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isOverlapIdNull();
+	long getOverlapId();
+	void setOverlapId(long value);
+	void setOverlapIdNull();
+	boolean isTypeNull();
+	String getType();
+	void setType(String value);
+	void setTypeNull();
+	int zGetTypeAsInt();
+	boolean isUserNull();
+	String getUser();
+	void setUser(String value);
+	void setUserNull();
+	int zGetUserAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TestOverlapBusinessDateMilestonedDataOnHeap implements TestOverlapBusinessDateMilestonedData
+	{
+		private byte _dataVersion;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private long overlapId;
+		private String type;
+		private String user;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isOverlapIdNull()
+		{
+			return false;
+		}
+
+		public boolean isTypeNull()
+		{
+			return this.getType() == null;
+		}
+
+		public boolean isUserNull()
+		{
+			return this.getUser() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.businessDateTo, TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate());
+			out.writeLong(this.overlapId);
+			out.writeObject(this.type);
+			out.writeObject(this.user);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestOverlapBusinessDateMilestonedFinder.isFullCache(), TestOverlapBusinessDateMilestonedFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestOverlapBusinessDateMilestonedFinder.isFullCache(), TestOverlapBusinessDateMilestonedFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getOverlapId()
+		{
+			return this.overlapId;
+		}
+
+		public void setOverlapId(long value)
+		{
+			this.overlapId = value;
+		}
+
+		public void setOverlapIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getType()
+		{
+			return this.type;
+		}
+
+		public int zGetTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(type);
+		}
+
+		public void setType(String value)
+		{
+			this.type = StringPool.getInstance().getOrAddToCache(value, TestOverlapBusinessDateMilestonedFinder.isFullCache());
+		}
+
+		public void setTypeNull()
+		{
+			this.setType(null);
+		}
+
+		public String getUser()
+		{
+			return this.user;
+		}
+
+		public int zGetUserAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(user);
+		}
+
+		public void setUser(String value)
+		{
+			this.user = StringPool.getInstance().getOrAddToCache(value, TestOverlapBusinessDateMilestonedFinder.isFullCache());
+		}
+
+		public void setUserNull()
+		{
+			this.setUser(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestOverlapBusinessDateMilestonedDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.overlapId = this.overlapId;
+			copy.type = this.type;
+			copy.user = this.user;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestOverlapBusinessDateMilestonedFinder.isFullCache(), TestOverlapBusinessDateMilestonedFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate()), TestOverlapBusinessDateMilestonedFinder.isFullCache(), TestOverlapBusinessDateMilestonedFinder.isOffHeap());
+			this.overlapId = in.readLong();
+			this.type = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestOverlapBusinessDateMilestonedFinder.isFullCache());
+			this.user = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestOverlapBusinessDateMilestonedFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestOverlapBusinessDateMilestonedData otherData = (TestOverlapBusinessDateMilestonedData) other;
+			if (getOverlapId() != otherData.getOverlapId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.businessDateTo, TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate());
+			out.writeLong(this.overlapId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestOverlapBusinessDateMilestonedFinder.isFullCache(), TestOverlapBusinessDateMilestonedFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate()), TestOverlapBusinessDateMilestonedFinder.isFullCache(), TestOverlapBusinessDateMilestonedFinder.isOffHeap());
+			this.overlapId = in.readLong();
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestOverlapBusinessDateMilestonedDataOffHeap data = new TestOverlapBusinessDateMilestonedDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setOverlapId(this.getOverlapId());
+			data.setType(this.getType());
+			data.setUser(this.getUser());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestOverlapBusinessDateMilestonedData testOverlapBusinessDateMilestonedData = (TestOverlapBusinessDateMilestonedData) newData;
+			this.setBusinessDateFrom(testOverlapBusinessDateMilestonedData.getBusinessDateFrom());
+			this.setBusinessDateTo(testOverlapBusinessDateMilestonedData.getBusinessDateTo());
+			this.setType(testOverlapBusinessDateMilestonedData.getType());
+			this.setUser(testOverlapBusinessDateMilestonedData.getUser());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestOverlapBusinessDateMilestonedData other = (TestOverlapBusinessDateMilestonedData) newData;
+			if (!isTypeNull() ? !getType().equals(other.getType()) : !other.isTypeNull())
+			{
+				return true;
+			}
+
+			if (!isUserNull() ? !getUser().equals(other.getUser()) : !other.isUserNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestOverlapBusinessDateMilestonedDataOnHeap copy = new TestOverlapBusinessDateMilestonedDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestOverlapBusinessDateMilestonedDataOnHeap copy = new TestOverlapBusinessDateMilestonedDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "overlapId: "+(""+getOverlapId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestOverlapBusinessDateMilestonedData otherData = (TestOverlapBusinessDateMilestonedData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestOverlapBusinessDateMilestonedData otherData = (TestOverlapBusinessDateMilestonedData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestOverlapBusinessDateMilestonedData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestOverlapBusinessDateMilestonedData";
+		}
+	}
+
+	public class TestOverlapBusinessDateMilestonedDataOffHeap extends MithraOffHeapDataObject implements TestOverlapBusinessDateMilestonedData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestOverlapBusinessDateMilestonedDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 20);
+		}
+
+		public TestOverlapBusinessDateMilestonedDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isOverlapIdNull()
+		{
+			return false;
+		}
+
+		public boolean isTypeNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isUserNull()
+		{
+			return zIsStringNull(_storage, 32);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate());
+			out.writeLong(this.getOverlapId());
+			out.writeObject(this.getType());
+			out.writeObject(this.getUser());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getOverlapId()
+		{
+			return zGetLong(_storage, 4);
+		}
+
+		public void setOverlapId(long value)
+		{
+			zSetLong(_storage, value, 4, -1, -1);
+		}
+
+		public void setOverlapIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getType()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetTypeAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setType(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setTypeNull()
+		{
+			this.setType(null);
+		}
+
+		public String getUser()
+		{
+			return zGetString(_storage, 32);
+		}
+
+		public int zGetUserAsInt()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setUser(String value)
+		{
+			zSetString(_storage, value, 32);
+		}
+
+		public void setUserNull()
+		{
+			this.setUser(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestOverlapBusinessDateMilestonedDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.overlapId = this.getOverlapId();
+			copy.type = this.getType();
+			copy.user = this.getUser();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetString(_storage, (String)in.readObject(), 32);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestOverlapBusinessDateMilestonedDataOffHeap)
+			{
+				final TestOverlapBusinessDateMilestonedDataOffHeap otherData = (TestOverlapBusinessDateMilestonedDataOffHeap) other;
+				if (this.zGetLong(_storage, 4) != otherData.zGetLong(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestOverlapBusinessDateMilestonedData otherData = (TestOverlapBusinessDateMilestonedData) other;
+			if (getOverlapId() != otherData.getOverlapId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate());
+			out.writeLong(this.getOverlapId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestOverlapBusinessDateMilestonedData testOverlapBusinessDateMilestonedData = (TestOverlapBusinessDateMilestonedData) newData;
+			this.setBusinessDateFrom(testOverlapBusinessDateMilestonedData.getBusinessDateFrom());
+			this.setBusinessDateTo(testOverlapBusinessDateMilestonedData.getBusinessDateTo());
+			this.setType(testOverlapBusinessDateMilestonedData.getType());
+			this.setUser(testOverlapBusinessDateMilestonedData.getUser());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestOverlapBusinessDateMilestonedData other = (TestOverlapBusinessDateMilestonedData) newData;
+			if (!isTypeNull() ? !getType().equals(other.getType()) : !other.isTypeNull())
+			{
+				return true;
+			}
+
+			if (!isUserNull() ? !getUser().equals(other.getUser()) : !other.isUserNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestOverlapBusinessDateMilestonedDataOnHeap copy = new TestOverlapBusinessDateMilestonedDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestOverlapBusinessDateMilestonedDataOnHeap copy = new TestOverlapBusinessDateMilestonedDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "overlapId: "+(""+getOverlapId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestOverlapBusinessDateMilestonedData otherData = (TestOverlapBusinessDateMilestonedData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestOverlapBusinessDateMilestonedData otherData = (TestOverlapBusinessDateMilestonedData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestOverlapBusinessDateMilestonedData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestOverlapBusinessDateMilestonedData";
+		}
+	}
+}
@@ -0,0 +1,529 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestOverlapBusinessDateMilestonedDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "\"TYPE\",\"USER\",FROM_Z,THRU_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.\"TYPE\",t0.\"USER\",t0.FROM_Z,t0.THRU_Z";
+	private static final String PK_WITH_ALIAS = "t0.OVERLAP_ID = ?";
+	private static final String PK_INDEX_COLS = "OVERLAP_ID";
+	protected TestOverlapBusinessDateMilestonedDatabaseObjectAbstract()
+	{
+		super("TestOverlapBusinessDateMilestoned", "com.gs.fw.common.mithra.test.domain.TestOverlapBusinessDateMilestonedFinder",
+			5, 5,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestOverlapBusinessDateMilestonedFinder.getFinderInstance();
+	}
+
+	public static TestOverlapBusinessDateMilestonedData allocateOnHeapData()
+	{
+		return new TestOverlapBusinessDateMilestonedData.TestOverlapBusinessDateMilestonedDataOnHeap();
+	}
+
+	public static TestOverlapBusinessDateMilestonedData allocateOffHeapData()
+	{
+		return new TestOverlapBusinessDateMilestonedData.TestOverlapBusinessDateMilestonedDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestOverlapBusinessDateMilestonedData.TestOverlapBusinessDateMilestonedDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestOverlapBusinessDateMilestonedFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestOverlapBusinessDateMilestonedData data = new TestOverlapBusinessDateMilestonedData.TestOverlapBusinessDateMilestonedDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestOverlapBusinessDateMilestonedFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestOverlapBusinessDateMilestonedData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestOverlapBusinessDateMilestoned", TestOverlapBusinessDateMilestonedFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("TestOverlapBusinessDateMilestoned"));
+			TestOverlapBusinessDateMilestonedData.TestOverlapBusinessDateMilestonedDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(TestOverlapBusinessDateMilestonedFinder.getPrimaryKeyAttributes(), TestOverlapBusinessDateMilestonedFinder.getAsOfAttributes(), this, TestOverlapBusinessDateMilestonedFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(TestOverlapBusinessDateMilestonedFinder.getPrimaryKeyAttributes(), TestOverlapBusinessDateMilestonedFinder.getAsOfAttributes(), this, TestOverlapBusinessDateMilestonedFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(TestOverlapBusinessDateMilestonedFinder.getPrimaryKeyAttributes(), TestOverlapBusinessDateMilestonedFinder.getAsOfAttributes(), this, TestOverlapBusinessDateMilestonedFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(TestOverlapBusinessDateMilestonedFinder.getPrimaryKeyAttributes(), TestOverlapBusinessDateMilestonedFinder.getAsOfAttributes(), this, TestOverlapBusinessDateMilestonedFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(TestOverlapBusinessDateMilestonedFinder.getPrimaryKeyAttributes(), TestOverlapBusinessDateMilestonedFinder.getAsOfAttributes(), this, TestOverlapBusinessDateMilestonedFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestOverlapBusinessDateMilestonedData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestOverlapBusinessDateMilestoned", TestOverlapBusinessDateMilestonedFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			TestOverlapBusinessDateMilestonedData.TestOverlapBusinessDateMilestonedDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(TestOverlapBusinessDateMilestonedFinder.getPrimaryKeyAttributes(), TestOverlapBusinessDateMilestonedFinder.getAsOfAttributes(), this, TestOverlapBusinessDateMilestonedFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(TestOverlapBusinessDateMilestonedFinder.getPrimaryKeyAttributes(), TestOverlapBusinessDateMilestonedFinder.getAsOfAttributes(), this, TestOverlapBusinessDateMilestonedFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestOverlapBusinessDateMilestonedFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestOverlapBusinessDateMilestonedFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TestOverlapBusinessDateMilestoned.zConfigFullTx();
+		}
+		else
+		{
+			TestOverlapBusinessDateMilestoned.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestOverlapBusinessDateMilestonedData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestOverlapBusinessDateMilestonedData(1, (TestOverlapBusinessDateMilestonedData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestOverlapBusinessDateMilestonedPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestOverlapBusinessDateMilestonedTableName();
+	}
+
+	public String getTestOverlapBusinessDateMilestonedTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestOverlapBusinessDateMilestonedData data = (TestOverlapBusinessDateMilestonedData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getOverlapId());
+		conversionTimeZone = MithraTimestamp.UtcTimeZone;
+		if (data.getBusinessDateTo().getTime() == TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "OVERLAP_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.OVERLAP_ID,t0.\"TYPE\",t0.\"USER\",t0.FROM_Z,t0.THRU_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*5);
+		result.append(databaseAlias).append(".").append("OVERLAP_ID");
+		result.append(",").append(databaseAlias).append(".").append("\"TYPE\"");
+		result.append(",").append(databaseAlias).append(".").append("\"USER\"");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestOverlapBusinessDateMilestonedData inflateTestOverlapBusinessDateMilestonedData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestOverlapBusinessDateMilestonedData data = inflateTestOverlapBusinessDateMilestonedPkData(rs, dt);
+		inflateNonPkTestOverlapBusinessDateMilestonedData(2, data, rs, dt);
+		return data;
+	}
+
+	public TestOverlapBusinessDateMilestonedData inflateTestOverlapBusinessDateMilestonedPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestOverlapBusinessDateMilestonedData _data = new TestOverlapBusinessDateMilestonedData.TestOverlapBusinessDateMilestonedDataOnHeap();
+		int _pos = 1;
+		_data.setOverlapId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "overlapId");
+		return _data;
+	}
+
+	public void inflateNonPkTestOverlapBusinessDateMilestonedData(int _pos, TestOverlapBusinessDateMilestonedData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestOverlapBusinessDateMilestonedData _data = _datax;
+			_data.setType(trimString(_rs.getString(_pos++)));
+			_data.setUser(trimString(_rs.getString(_pos++)));
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.UtcTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.UtcTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.UtcTimeZone,
+				TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTestOverlapBusinessDateMilestonedTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TEST_OVERLAP_BUSINESS_DATE_MILESTONED";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TestOverlapBusinessDateMilestonedData data = (TestOverlapBusinessDateMilestonedData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getOverlapId());
+		if (data.isTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getType());
+		}
+
+		if (data.isUserNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getUser());
+		}
+
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.UtcTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateToNull())
+		{
+			throwNullAttribute("businessDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.UtcTimeZone;
+		if (data.getBusinessDateTo().getTime() == TestOverlapBusinessDateMilestonedFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "OVERLAP_ID,\"TYPE\",\"USER\",FROM_Z,THRU_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TestOverlapBusinessDateMilestoned newObject = new TestOverlapBusinessDateMilestoned(asOfDates[0]
+		);
+		newObject.zSetFromTestOverlapBusinessDateMilestonedData((TestOverlapBusinessDateMilestonedData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new NonAuditedTransactionalDataContainer(tx.getPerPortalTemporalContainer(TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal(),
+			null)
+		,TestOverlapBusinessDateMilestonedFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestOverlapBusinessDateMilestonedData data = (TestOverlapBusinessDateMilestonedData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getOverlapId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, TestOverlapBusinessDateMilestonedFinder.businessDate(),
+			null);
+	}
+}
@@ -0,0 +1,160 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestOverlapBusinessDateMilestonedListAbstract extends DelegatingList<TestOverlapBusinessDateMilestoned> implements MithraDatedTransactionalList<TestOverlapBusinessDateMilestoned>
+{
+	public TestOverlapBusinessDateMilestonedListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestOverlapBusinessDateMilestonedListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestOverlapBusinessDateMilestonedListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestOverlapBusinessDateMilestonedListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestOverlapBusinessDateMilestoned[] elements()
+	{
+		TestOverlapBusinessDateMilestoned[] result = new TestOverlapBusinessDateMilestoned[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestOverlapBusinessDateMilestonedList intersection(TestOverlapBusinessDateMilestonedList another)
+	{
+		return (TestOverlapBusinessDateMilestonedList)super.intersection(another);
+	}
+
+	public TestOverlapBusinessDateMilestoned getTestOverlapBusinessDateMilestonedAt(int index)
+	{
+		return (TestOverlapBusinessDateMilestoned)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestOverlapBusinessDateMilestonedFinder.getMithraObjectPortal();
+	}
+
+	public TestOverlapBusinessDateMilestonedList getNonPersistentCopy()
+	{
+		TestOverlapBusinessDateMilestonedList result = new TestOverlapBusinessDateMilestonedList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestOverlapBusinessDateMilestonedList asAdhoc()
+	{
+		return (TestOverlapBusinessDateMilestonedList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestOverlapBusinessDateMilestoned> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestOverlapBusinessDateMilestonedList merge(MithraTransactionalList<TestOverlapBusinessDateMilestoned> incoming, TopLevelMergeOptions<TestOverlapBusinessDateMilestoned> mergeOptions)
+	{
+		return (TestOverlapBusinessDateMilestonedList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestOverlapBusinessDateMilestonedList getDetachedCopy()
+	{
+		TestOverlapBusinessDateMilestonedList result = new TestOverlapBusinessDateMilestonedList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOverlapId(long newValue)
+	{
+		zSetLong(TestOverlapBusinessDateMilestonedFinder.overlapId(), newValue);
+	}
+
+	public void setType(String newValue)
+	{
+		zSetString(TestOverlapBusinessDateMilestonedFinder.type(), newValue);
+	}
+
+	public void setUser(String newValue)
+	{
+		zSetString(TestOverlapBusinessDateMilestonedFinder.user(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapBusinessDateMilestonedFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapBusinessDateMilestonedFinder.businessDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestOverlapFullyMilestonedListAbstract extends DelegatingList<TestOverlapFullyMilestoned> implements MithraDatedTransactionalList<TestOverlapFullyMilestoned>
+{
+	public TestOverlapFullyMilestonedListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestOverlapFullyMilestonedListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestOverlapFullyMilestonedListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestOverlapFullyMilestonedListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestOverlapFullyMilestoned[] elements()
+	{
+		TestOverlapFullyMilestoned[] result = new TestOverlapFullyMilestoned[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestOverlapFullyMilestonedList intersection(TestOverlapFullyMilestonedList another)
+	{
+		return (TestOverlapFullyMilestonedList)super.intersection(another);
+	}
+
+	public TestOverlapFullyMilestoned getTestOverlapFullyMilestonedAt(int index)
+	{
+		return (TestOverlapFullyMilestoned)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestOverlapFullyMilestonedFinder.getMithraObjectPortal();
+	}
+
+	public TestOverlapFullyMilestonedList getNonPersistentCopy()
+	{
+		TestOverlapFullyMilestonedList result = new TestOverlapFullyMilestonedList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestOverlapFullyMilestonedList asAdhoc()
+	{
+		return (TestOverlapFullyMilestonedList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestOverlapFullyMilestoned> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestOverlapFullyMilestonedList merge(MithraTransactionalList<TestOverlapFullyMilestoned> incoming, TopLevelMergeOptions<TestOverlapFullyMilestoned> mergeOptions)
+	{
+		return (TestOverlapFullyMilestonedList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestOverlapFullyMilestonedList getDetachedCopy()
+	{
+		TestOverlapFullyMilestonedList result = new TestOverlapFullyMilestonedList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOverlapId(long newValue)
+	{
+		zSetLong(TestOverlapFullyMilestonedFinder.overlapId(), newValue);
+	}
+
+	public void setType(String newValue)
+	{
+		zSetString(TestOverlapFullyMilestonedFinder.type(), newValue);
+	}
+
+	public void setUser(String newValue)
+	{
+		zSetString(TestOverlapFullyMilestonedFinder.user(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapFullyMilestonedFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapFullyMilestonedFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapFullyMilestonedFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapFullyMilestonedFinder.businessDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,829 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestOverlapProcessingDateMilestonedData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 36;
+	boolean isOverlapIdNull();
+	long getOverlapId();
+	void setOverlapId(long value);
+	void setOverlapIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isTypeNull();
+	String getType();
+	void setType(String value);
+	void setTypeNull();
+	int zGetTypeAsInt();
+	boolean isUserNull();
+	String getUser();
+	void setUser(String value);
+	void setUserNull();
+	int zGetUserAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TestOverlapProcessingDateMilestonedDataOnHeap implements TestOverlapProcessingDateMilestonedData
+	{
+		private byte _dataVersion;
+		private long overlapId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String type;
+		private String user;
+		public boolean isOverlapIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isTypeNull()
+		{
+			return this.getType() == null;
+		}
+
+		public boolean isUserNull()
+		{
+			return this.getUser() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeLong(this.overlapId);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, TestOverlapProcessingDateMilestonedFinder.processingDate().getInfinityDate());
+			out.writeObject(this.type);
+			out.writeObject(this.user);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public long getOverlapId()
+		{
+			return this.overlapId;
+		}
+
+		public void setOverlapId(long value)
+		{
+			this.overlapId = value;
+		}
+
+		public void setOverlapIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestOverlapProcessingDateMilestonedFinder.isFullCache(), TestOverlapProcessingDateMilestonedFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestOverlapProcessingDateMilestonedFinder.isFullCache(), TestOverlapProcessingDateMilestonedFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getType()
+		{
+			return this.type;
+		}
+
+		public int zGetTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(type);
+		}
+
+		public void setType(String value)
+		{
+			this.type = StringPool.getInstance().getOrAddToCache(value, TestOverlapProcessingDateMilestonedFinder.isFullCache());
+		}
+
+		public void setTypeNull()
+		{
+			this.setType(null);
+		}
+
+		public String getUser()
+		{
+			return this.user;
+		}
+
+		public int zGetUserAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(user);
+		}
+
+		public void setUser(String value)
+		{
+			this.user = StringPool.getInstance().getOrAddToCache(value, TestOverlapProcessingDateMilestonedFinder.isFullCache());
+		}
+
+		public void setUserNull()
+		{
+			this.setUser(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestOverlapProcessingDateMilestonedDataOnHeap copy, boolean withRelationships)
+		{
+			copy.overlapId = this.overlapId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.type = this.type;
+			copy.user = this.user;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.overlapId = in.readLong();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestOverlapProcessingDateMilestonedFinder.isFullCache(), TestOverlapProcessingDateMilestonedFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestOverlapProcessingDateMilestonedFinder.processingDate().getInfinityDate()), TestOverlapProcessingDateMilestonedFinder.isFullCache(), TestOverlapProcessingDateMilestonedFinder.isOffHeap());
+			this.type = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestOverlapProcessingDateMilestonedFinder.isFullCache());
+			this.user = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestOverlapProcessingDateMilestonedFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestOverlapProcessingDateMilestonedData otherData = (TestOverlapProcessingDateMilestonedData) other;
+			if (getOverlapId() != otherData.getOverlapId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeLong(this.overlapId);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, TestOverlapProcessingDateMilestonedFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.overlapId = in.readLong();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestOverlapProcessingDateMilestonedFinder.isFullCache(), TestOverlapProcessingDateMilestonedFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestOverlapProcessingDateMilestonedFinder.processingDate().getInfinityDate()), TestOverlapProcessingDateMilestonedFinder.isFullCache(), TestOverlapProcessingDateMilestonedFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestOverlapProcessingDateMilestonedDataOffHeap data = new TestOverlapProcessingDateMilestonedDataOffHeap();
+			data.setOverlapId(this.getOverlapId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setType(this.getType());
+			data.setUser(this.getUser());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestOverlapProcessingDateMilestonedData testOverlapProcessingDateMilestonedData = (TestOverlapProcessingDateMilestonedData) newData;
+			this.setProcessingDateFrom(testOverlapProcessingDateMilestonedData.getProcessingDateFrom());
+			this.setProcessingDateTo(testOverlapProcessingDateMilestonedData.getProcessingDateTo());
+			this.setType(testOverlapProcessingDateMilestonedData.getType());
+			this.setUser(testOverlapProcessingDateMilestonedData.getUser());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestOverlapProcessingDateMilestonedData other = (TestOverlapProcessingDateMilestonedData) newData;
+			if (!isTypeNull() ? !getType().equals(other.getType()) : !other.isTypeNull())
+			{
+				return true;
+			}
+
+			if (!isUserNull() ? !getUser().equals(other.getUser()) : !other.isUserNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestOverlapProcessingDateMilestonedDataOnHeap copy = new TestOverlapProcessingDateMilestonedDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestOverlapProcessingDateMilestonedDataOnHeap copy = new TestOverlapProcessingDateMilestonedDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "overlapId: "+(""+getOverlapId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestOverlapProcessingDateMilestonedData otherData = (TestOverlapProcessingDateMilestonedData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestOverlapProcessingDateMilestonedData otherData = (TestOverlapProcessingDateMilestonedData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestOverlapProcessingDateMilestonedData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestOverlapProcessingDateMilestonedFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestOverlapProcessingDateMilestonedFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestOverlapProcessingDateMilestonedData";
+		}
+	}
+
+	public class TestOverlapProcessingDateMilestonedDataOffHeap extends MithraOffHeapDataObject implements TestOverlapProcessingDateMilestonedData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestOverlapProcessingDateMilestonedDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 20);
+		}
+
+		public TestOverlapProcessingDateMilestonedDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isOverlapIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 12);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isTypeNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isUserNull()
+		{
+			return zIsStringNull(_storage, 32);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeLong(this.getOverlapId());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestOverlapProcessingDateMilestonedFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getType());
+			out.writeObject(this.getUser());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public long getOverlapId()
+		{
+			return zGetLong(_storage, 4);
+		}
+
+		public void setOverlapId(long value)
+		{
+			zSetLong(_storage, value, 4, -1, -1);
+		}
+
+		public void setOverlapIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 12);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 12);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 12);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getType()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetTypeAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setType(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setTypeNull()
+		{
+			this.setType(null);
+		}
+
+		public String getUser()
+		{
+			return zGetString(_storage, 32);
+		}
+
+		public int zGetUserAsInt()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setUser(String value)
+		{
+			zSetString(_storage, value, 32);
+		}
+
+		public void setUserNull()
+		{
+			this.setUser(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestOverlapProcessingDateMilestonedDataOnHeap copy, boolean withRelationships)
+		{
+			copy.overlapId = this.getOverlapId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.type = this.getType();
+			copy.user = this.getUser();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetString(_storage, (String)in.readObject(), 32);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestOverlapProcessingDateMilestonedDataOffHeap)
+			{
+				final TestOverlapProcessingDateMilestonedDataOffHeap otherData = (TestOverlapProcessingDateMilestonedDataOffHeap) other;
+				if (this.zGetLong(_storage, 4) != otherData.zGetLong(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestOverlapProcessingDateMilestonedData otherData = (TestOverlapProcessingDateMilestonedData) other;
+			if (getOverlapId() != otherData.getOverlapId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeLong(this.getOverlapId());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestOverlapProcessingDateMilestonedFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetLong(_storage, in.readLong(), 4, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 12);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestOverlapProcessingDateMilestonedData testOverlapProcessingDateMilestonedData = (TestOverlapProcessingDateMilestonedData) newData;
+			this.setProcessingDateFrom(testOverlapProcessingDateMilestonedData.getProcessingDateFrom());
+			this.setProcessingDateTo(testOverlapProcessingDateMilestonedData.getProcessingDateTo());
+			this.setType(testOverlapProcessingDateMilestonedData.getType());
+			this.setUser(testOverlapProcessingDateMilestonedData.getUser());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestOverlapProcessingDateMilestonedData other = (TestOverlapProcessingDateMilestonedData) newData;
+			if (!isTypeNull() ? !getType().equals(other.getType()) : !other.isTypeNull())
+			{
+				return true;
+			}
+
+			if (!isUserNull() ? !getUser().equals(other.getUser()) : !other.isUserNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestOverlapProcessingDateMilestonedDataOnHeap copy = new TestOverlapProcessingDateMilestonedDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestOverlapProcessingDateMilestonedDataOnHeap copy = new TestOverlapProcessingDateMilestonedDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "overlapId: "+(""+getOverlapId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestOverlapProcessingDateMilestonedData otherData = (TestOverlapProcessingDateMilestonedData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestOverlapProcessingDateMilestonedData otherData = (TestOverlapProcessingDateMilestonedData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestOverlapProcessingDateMilestonedData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestOverlapProcessingDateMilestonedFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestOverlapProcessingDateMilestonedFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestOverlapProcessingDateMilestonedData";
+		}
+	}
+}
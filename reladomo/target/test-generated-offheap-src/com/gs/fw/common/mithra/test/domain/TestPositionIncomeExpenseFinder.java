@@ -0,0 +1,903 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestPositionIncomeExpenseFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestPositionIncomeExpense";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestPositionIncomeExpense";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestPositionIncomeExpense");
+	private static final TestPositionIncomeExpenseSingleFinder<TestPositionIncomeExpense, Object, TestPositionIncomeExpense> finder = new TestPositionIncomeExpenseSingleFinder<TestPositionIncomeExpense, Object, TestPositionIncomeExpense>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestPositionIncomeExpenseFinder.TestPositionIncomeExpenseRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("positionType");
+		finderMethodMap.addNormalAttributeName("balanceType");
+		finderMethodMap.addNormalAttributeName("currency");
+		finderMethodMap.addNormalAttributeName("incomeExpense");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return TestPositionIncomeExpenseFinder.zSourceAttributeType;
+	}
+
+	public static TestPositionIncomeExpense findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestPositionIncomeExpense findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestPositionIncomeExpenseList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestPositionIncomeExpenseList) finder.findMany(operation);
+	}
+
+	public static TestPositionIncomeExpenseList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestPositionIncomeExpenseList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestPositionIncomeExpense findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestPositionIncomeExpense) FinderUtils.findOne(found);
+	}
+
+	public static TestPositionIncomeExpense findByPrimaryKey(String accountId, int productId, int positionType, int balanceType, String currency, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(accountId, productId, positionType, balanceType, currency, acmapCode, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestPositionIncomeExpenseData _castedTargetData = (TestPositionIncomeExpenseData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountId()) && _bean.getI1AsInteger() == _castedTargetData.getProductId() && _bean.getI2AsInteger() == _castedTargetData.getPositionType() && _bean.getI3AsInteger() == _castedTargetData.getBalanceType() && _bean.getO2AsString().equals(_castedTargetData.getCurrency()) && _bean.getO3AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return TestPositionIncomeExpenseFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TestPositionIncomeExpenseFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger())),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger())),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.offHeapHash(_bean.getO3AsString()));
+		}
+	}
+
+	public static TestPositionIncomeExpense zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestPositionIncomeExpense) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestPositionIncomeExpenseRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestPositionIncomeExpense, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return TestPositionIncomeExpenseFinder.zSourceAttributeType;
+		}
+
+		private StringAttribute<ParentOwnerType> accountId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private IntegerAttribute<ParentOwnerType> positionType;
+		private IntegerAttribute<ParentOwnerType> balanceType;
+		private StringAttribute<ParentOwnerType> currency;
+		private DoubleAttribute<ParentOwnerType> incomeExpense;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestPositionIncomeExpenseRelatedFinder()
+		{
+			super();
+		}
+
+		public TestPositionIncomeExpenseRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestPositionIncomeExpenseFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestPositionIncomeExpenseFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestPositionIncomeExpenseFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestPositionIncomeExpenseFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.accountId();
+			attributes[1] = this.productId();
+			attributes[2] = this.positionType();
+			attributes[3] = this.balanceType();
+			attributes[4] = this.currency();
+			attributes[5] = this.incomeExpense();
+			attributes[6] = this.businessDateFrom();
+			attributes[7] = this.businessDateTo();
+			attributes[8] = this.processingDateFrom();
+			attributes[9] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestPositionIncomeExpense findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestPositionIncomeExpenseFinder.findOne(operation, false);
+		}
+
+		public TestPositionIncomeExpense findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestPositionIncomeExpenseFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestPositionIncomeExpense> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestPositionIncomeExpenseList((Operation) operation);
+		}
+
+		public MithraList<? extends TestPositionIncomeExpense> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestPositionIncomeExpenseList result = (TestPositionIncomeExpenseList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestPositionIncomeExpense> constructEmptyList()
+		{
+			return new TestPositionIncomeExpenseList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 212956103;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return TestPositionIncomeExpenseFinder.zSourceAttributeType;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_NBR_C","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(TestPositionIncomeExpenseFinder.accountId(), this.mapper, this.zGetValueSelector());
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_I","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,28,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestPositionIncomeExpenseFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> positionType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.positionType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("POS_TYP_C","","positionType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,24,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestPositionIncomeExpenseFinder.positionType(), this.mapper, this.zGetValueSelector());
+				this.positionType = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> balanceType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.balanceType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("POS_INCM_XPNS_C","","balanceType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,16,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestPositionIncomeExpenseFinder.balanceType(), this.mapper, this.zGetValueSelector());
+				this.balanceType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> currency()
+		{
+			StringAttribute<ParentOwnerType> result = this.currency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_CURR_C","","currency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(TestPositionIncomeExpenseFinder.currency(), this.mapper, this.zGetValueSelector());
+				this.currency = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> incomeExpense()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.incomeExpense;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_INCM_XPNS_M","","incomeExpense",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,48,4,0, false) :
+					new MappedDoubleAttribute(TestPositionIncomeExpenseFinder.incomeExpense(), this.mapper, this.zGetValueSelector());
+				this.incomeExpense = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestPositionIncomeExpenseFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestPositionIncomeExpenseFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestPositionIncomeExpenseFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestPositionIncomeExpenseFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,56,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestPositionIncomeExpenseFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestPositionIncomeExpenseFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,64,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestPositionIncomeExpenseFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestPositionIncomeExpenseFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(TestPositionIncomeExpenseFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestPositionIncomeExpenseFinder.businessDateInfinity,false,true,TestPositionIncomeExpenseFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestPositionIncomeExpenseFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TestPositionIncomeExpenseFinder.processingDateInfinity,false,true,TestPositionIncomeExpenseFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestPositionIncomeExpenseFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return TestPositionIncomeExpenseFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestPositionIncomeExpenseFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestPositionIncomeExpenseFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestPositionIncomeExpenseCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestPositionIncomeExpenseRelatedFinder<ParentOwnerType, ReturnType, TestPositionIncomeExpenseList, OwnerType>
+	{
+		public TestPositionIncomeExpenseCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestPositionIncomeExpenseCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestPositionIncomeExpenseCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestPositionIncomeExpenseCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestPositionIncomeExpenseSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestPositionIncomeExpenseRelatedFinder<ParentOwnerType, ReturnType, TestPositionIncomeExpenseList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestPositionIncomeExpenseSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestPositionIncomeExpenseSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestPositionIncomeExpense other)
+		{
+			return this.accountId().eq(other.getAccountId())
+			.and(this.productId().eq(other.getProductId()))
+			.and(this.positionType().eq(other.getPositionType()))
+			.and(this.balanceType().eq(other.getBalanceType()))
+			.and(this.currency().eq(other.getCurrency()))
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestPositionIncomeExpense findByPrimaryKey(String accountId, int productId, int positionType, int balanceType, String currency, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+		{
+			TestPositionIncomeExpense _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountId != null && currency != null && acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountId);
+				_bean.setI1AsInteger(productId);
+				_bean.setI2AsInteger(positionType);
+				_bean.setI3AsInteger(balanceType);
+				_bean.setO2(currency);
+				_bean.setO3(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestPositionIncomeExpense) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.productId().eq(productId)).and(this.positionType().eq(positionType)).and(this.balanceType().eq(balanceType)).and(this.currency().eq(currency)).and(this.acmapCode().eq(acmapCode)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestPositionIncomeExpenseSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestPositionIncomeExpenseSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestPositionIncomeExpenseSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TPOSINCX.ACCT_NBR_C **/
+	public static StringAttribute<TestPositionIncomeExpense> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to TPOSINCX.PROD_I **/
+	public static IntegerAttribute<TestPositionIncomeExpense> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to TPOSINCX.POS_TYP_C **/
+	public static IntegerAttribute<TestPositionIncomeExpense> positionType()
+	{
+		return finder.positionType();
+	}
+
+	/** maps to TPOSINCX.POS_INCM_XPNS_C **/
+	public static IntegerAttribute<TestPositionIncomeExpense> balanceType()
+	{
+		return finder.balanceType();
+	}
+
+	/** maps to TPOSINCX.PROD_CURR_C **/
+	public static StringAttribute<TestPositionIncomeExpense> currency()
+	{
+		return finder.currency();
+	}
+
+	/** maps to TPOSINCX.POS_INCM_XPNS_M **/
+	public static DoubleAttribute<TestPositionIncomeExpense> incomeExpense()
+	{
+		return finder.incomeExpense();
+	}
+
+	/** maps to TPOSINCX.FROM_Z **/
+	public static TimestampAttribute<TestPositionIncomeExpense> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TPOSINCX.THRU_Z **/
+	public static TimestampAttribute<TestPositionIncomeExpense> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to TPOSINCX.IN_Z **/
+	public static TimestampAttribute<TestPositionIncomeExpense> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TPOSINCX.OUT_Z **/
+	public static TimestampAttribute<TestPositionIncomeExpense> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static StringAttribute<TestPositionIncomeExpense> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static AsOfAttribute<TestPositionIncomeExpense> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TestPositionIncomeExpense> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(TestPositionIncomeExpense other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountId());
+	}
+
+	public static TestPositionIncomeExpenseSingleFinder<TestPositionIncomeExpense, Object, TestPositionIncomeExpense> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, productId()
+			, positionType()
+			, balanceType()
+			, currency()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, accountId()
+			, productId()
+			, positionType()
+			, balanceType()
+			, currency()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = incomeExpense();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestPositionIncomeExpense");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
@@ -0,0 +1,719 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestPositionIncomeExpenseNullAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		TestPositionIncomeExpenseNullFinder.businessDate()
+	,
+		TestPositionIncomeExpenseNullFinder.processingDate()
+	, TestPositionIncomeExpenseNullFinder.zGetDoubleAttributes(),TestPositionIncomeExpenseNullFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestPositionIncomeExpenseNull.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestPositionIncomeExpenseNullAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestPositionIncomeExpenseNullFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestPositionIncomeExpenseNullFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestPositionIncomeExpenseNullAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public TestPositionIncomeExpenseNullData zSynchronizedGetData()
+	{
+		return (TestPositionIncomeExpenseNullData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestPositionIncomeExpenseNullFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TestPositionIncomeExpenseNullFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestPositionIncomeExpenseNull zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestPositionIncomeExpenseNull original = (TestPositionIncomeExpenseNull) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TestPositionIncomeExpenseNull copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestPositionIncomeExpenseNull) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestPositionIncomeExpenseNull copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestPositionIncomeExpenseNull) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			this.processingDate == null || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TestPositionIncomeExpenseNull getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestPositionIncomeExpenseNullAbstract result = (TestPositionIncomeExpenseNullAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestPositionIncomeExpenseNull ) result;
+	}
+
+	public TestPositionIncomeExpenseNull zFindOriginal()
+	{
+		TestPositionIncomeExpenseNullData data = (TestPositionIncomeExpenseNullData) this.currentData;
+		Operation op;
+		op = TestPositionIncomeExpenseNullFinder.accountId().eq(data.getAccountId());
+		op = op.and(TestPositionIncomeExpenseNullFinder.productId().eq(data.getProductId()));
+		op = op.and(TestPositionIncomeExpenseNullFinder.positionType().eq(data.getPositionType()));
+		op = op.and(TestPositionIncomeExpenseNullFinder.balanceType().eq(data.getBalanceType()));
+		op = op.and(TestPositionIncomeExpenseNullFinder.currency().eq(data.getCurrency()));
+		op = op.and(TestPositionIncomeExpenseNullFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(TestPositionIncomeExpenseNullFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TestPositionIncomeExpenseNullFinder.processingDate().eq(this.getProcessingDate()));
+		return TestPositionIncomeExpenseNullFinder.findOne(op);
+	}
+
+	public TestPositionIncomeExpenseNull getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestPositionIncomeExpenseNullAbstract result = (TestPositionIncomeExpenseNullAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestPositionIncomeExpenseNull ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestPositionIncomeExpenseNull copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestPositionIncomeExpenseNull) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestPositionIncomeExpenseNull copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestPositionIncomeExpenseNull) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestPositionIncomeExpenseNullData data = (TestPositionIncomeExpenseNullData) this.currentData;
+			Operation op = TestPositionIncomeExpenseNullFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestPositionIncomeExpenseNullFinder.processingDate().eq(this.processingDate));
+			op = op.and(TestPositionIncomeExpenseNullFinder.accountId().eq(data.getAccountId()));
+			op = op.and(TestPositionIncomeExpenseNullFinder.balanceType().eq(data.getBalanceType()));
+			op = op.and(TestPositionIncomeExpenseNullFinder.currency().eq(data.getCurrency()));
+			op = op.and(TestPositionIncomeExpenseNullFinder.positionType().eq(data.getPositionType()));
+			op = op.and(TestPositionIncomeExpenseNullFinder.productId().eq(data.getProductId()));
+			op = op.and(TestPositionIncomeExpenseNullFinder.acmapCode().eq(data.getAcmapCode()));
+			return TestPositionIncomeExpenseNullFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestPositionIncomeExpenseNullData data = (TestPositionIncomeExpenseNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestPositionIncomeExpenseNullFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestPositionIncomeExpenseNullData data = (TestPositionIncomeExpenseNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return this.zSynchronizedGetData().isAccountIdNull();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceTypeNull()
+	{
+		return this.zSynchronizedGetData().isBalanceTypeNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.zSynchronizedGetData().isCurrencyNull();
+	}
+
+	public boolean isIncomeExpenseNull()
+	{
+		return this.zSynchronizedGetData().isIncomeExpenseNull();
+	}
+
+	public boolean isPositionTypeNull()
+	{
+		return this.zSynchronizedGetData().isPositionTypeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public String getAccountId()
+	{
+		return this.zSynchronizedGetData().getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionIncomeExpenseNullFinder.accountId(), newValue, true );
+	}
+
+	public void setAccountIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionIncomeExpenseNullFinder.accountId(), newValue, true , exclusiveUntil);
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TestPositionIncomeExpenseNullFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(TestPositionIncomeExpenseNullFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public int getBalanceType()
+	{
+		return this.zSynchronizedGetData().getBalanceType();
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseNullFinder.balanceType(), newValue, true ,false);
+	}
+
+	public void setBalanceTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionIncomeExpenseNullFinder.balanceType(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseNullFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseNullFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getCurrency()
+	{
+		return this.zSynchronizedGetData().getCurrency();
+	}
+
+	public void setCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionIncomeExpenseNullFinder.currency(), newValue, true );
+	}
+
+	public void setCurrencyUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionIncomeExpenseNullFinder.currency(), newValue, true , exclusiveUntil);
+	}
+
+	public double getIncomeExpense()
+	{
+		TestPositionIncomeExpenseNullData data = this.zSynchronizedGetData();
+		if (data.isIncomeExpenseNull()) MithraNullPrimitiveException.throwNew("incomeExpense", data);
+		return data.getIncomeExpense();
+	}
+
+	public void setIncomeExpense(double newValue)
+	{
+		zSetDouble(TestPositionIncomeExpenseNullFinder.incomeExpense(), newValue, false ,true);
+	}
+
+	public void setIncomeExpenseUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(TestPositionIncomeExpenseNullFinder.incomeExpense(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementIncomeExpense(double increment)
+	{
+		zIncrement(increment, TestPositionIncomeExpenseNullFinder.incomeExpense(), false);
+	}
+
+	public void incrementIncomeExpenseUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, TestPositionIncomeExpenseNullFinder.incomeExpense(), false);
+	}
+
+	public int getPositionType()
+	{
+		return this.zSynchronizedGetData().getPositionType();
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseNullFinder.positionType(), newValue, true ,false);
+	}
+
+	public void setPositionTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionIncomeExpenseNullFinder.positionType(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseNullFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseNullFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		return this.zSynchronizedGetData().getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseNullFinder.productId(), newValue, true ,false);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionIncomeExpenseNullFinder.productId(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestPositionIncomeExpenseNullFinder.incomeExpense(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestPositionIncomeExpenseNullData data2 = (TestPositionIncomeExpenseNullData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestPositionIncomeExpenseNullFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setIncomeExpenseNull()
+	{
+		zNullify(TestPositionIncomeExpenseNullFinder.incomeExpense(), false);
+	}
+
+	public void setIncomeExpenseNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestPositionIncomeExpenseNullFinder.incomeExpense(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestPositionIncomeExpenseNullData _newData = (TestPositionIncomeExpenseNullData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestPositionIncomeExpenseNullData _newData = (TestPositionIncomeExpenseNullData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestPositionIncomeExpenseNullData _newData = (TestPositionIncomeExpenseNullData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TestPositionIncomeExpenseNullFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestPositionIncomeExpenseNullData.TestPositionIncomeExpenseNullDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestPositionIncomeExpenseNullData data = (TestPositionIncomeExpenseNullData) TestPositionIncomeExpenseNullFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestPositionIncomeExpenseNull has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestPositionIncomeExpenseNullData( TestPositionIncomeExpenseNullData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestPositionIncomeExpenseNullData( TestPositionIncomeExpenseNullData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestPositionIncomeExpenseNullFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestPositionIncomeExpenseNullFinder.getMithraObjectPortal();
+	}
+
+	public TestPositionIncomeExpenseNull getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestPositionIncomeExpenseNullAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestPositionIncomeExpenseNullAbstract from = (TestPositionIncomeExpenseNullAbstract) f;
+		TestPositionIncomeExpenseNullData newData = from.zSynchronizedGetData();
+		if (from.isIncomeExpenseNull())
+		{
+			this.setIncomeExpenseNull();
+		}
+		else
+		{
+			this.setIncomeExpense(newData.getIncomeExpense());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestPositionIncomeExpenseNullData _newData = (TestPositionIncomeExpenseNullData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestPositionIncomeExpenseNullData _newData = (TestPositionIncomeExpenseNullData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestPositionIncomeExpenseNullAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestPositionIncomeExpenseNullAbstract from = (TestPositionIncomeExpenseNullAbstract)f;
+		TestPositionIncomeExpenseNullData newData = from.zSynchronizedGetData();
+		if (from.isIncomeExpenseNull())
+		{
+			this.setIncomeExpenseNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setIncomeExpenseUntil(newData.getIncomeExpense(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TestPositionIncomeExpenseNullData newData = (TestPositionIncomeExpenseNullData) d;
+		TestPositionIncomeExpenseNullData data = (TestPositionIncomeExpenseNullData) nd;
+		if (TestPositionIncomeExpenseNullFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseNullFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseNullFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseNullFinder.balanceType(), false);
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseNullFinder.currency(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TestPositionIncomeExpenseNullFinder.incomeExpense(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseNullFinder.positionType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseNullFinder.productId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseNullFinder.accountId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseNullFinder.acmapCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseNullFinder.balanceType(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseNullFinder.currency(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, TestPositionIncomeExpenseNullFinder.incomeExpense(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseNullFinder.positionType(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseNullFinder.productId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestPositionIncomeExpenseNullData data = ((TestPositionIncomeExpenseNullData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestPositionIncomeExpenseNullData data = ((TestPositionIncomeExpenseNullData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestPositionIncomeExpenseNullData data = ((TestPositionIncomeExpenseNullData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), TestPositionIncomeExpenseNullFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), TestPositionIncomeExpenseNullFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestPositionIncomeExpenseNullData localData = (TestPositionIncomeExpenseNullData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
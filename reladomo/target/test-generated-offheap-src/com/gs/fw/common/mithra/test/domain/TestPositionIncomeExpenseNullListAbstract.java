@@ -0,0 +1,195 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestPositionIncomeExpenseNullListAbstract extends DelegatingList<TestPositionIncomeExpenseNull> implements MithraDatedTransactionalList<TestPositionIncomeExpenseNull>
+{
+	public TestPositionIncomeExpenseNullListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestPositionIncomeExpenseNullListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestPositionIncomeExpenseNullListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestPositionIncomeExpenseNullListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestPositionIncomeExpenseNull[] elements()
+	{
+		TestPositionIncomeExpenseNull[] result = new TestPositionIncomeExpenseNull[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestPositionIncomeExpenseNullList intersection(TestPositionIncomeExpenseNullList another)
+	{
+		return (TestPositionIncomeExpenseNullList)super.intersection(another);
+	}
+
+	public TestPositionIncomeExpenseNull getTestPositionIncomeExpenseNullAt(int index)
+	{
+		return (TestPositionIncomeExpenseNull)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestPositionIncomeExpenseNullFinder.getMithraObjectPortal();
+	}
+
+	public TestPositionIncomeExpenseNullList getNonPersistentCopy()
+	{
+		TestPositionIncomeExpenseNullList result = new TestPositionIncomeExpenseNullList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestPositionIncomeExpenseNullList asAdhoc()
+	{
+		return (TestPositionIncomeExpenseNullList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestPositionIncomeExpenseNull> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestPositionIncomeExpenseNullList merge(MithraTransactionalList<TestPositionIncomeExpenseNull> incoming, TopLevelMergeOptions<TestPositionIncomeExpenseNull> mergeOptions)
+	{
+		return (TestPositionIncomeExpenseNullList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestPositionIncomeExpenseNullList getDetachedCopy()
+	{
+		TestPositionIncomeExpenseNullList result = new TestPositionIncomeExpenseNullList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(TestPositionIncomeExpenseNullFinder.accountId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseNullFinder.productId(), newValue);
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseNullFinder.positionType(), newValue);
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseNullFinder.balanceType(), newValue);
+	}
+
+	public void setCurrency(String newValue)
+	{
+		zSetString(TestPositionIncomeExpenseNullFinder.currency(), newValue);
+	}
+
+	public void setIncomeExpense(double newValue)
+	{
+		zSetDouble(TestPositionIncomeExpenseNullFinder.incomeExpense(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseNullFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseNullFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseNullFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseNullFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TestPositionIncomeExpenseNullFinder.acmapCode(), newValue);
+	}
+
+	public void setIncomeExpenseNull()
+	{
+		zSetAttributeNull(TestPositionIncomeExpenseNullFinder.incomeExpense());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,821 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestPositionPriceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new com.gs.fw.common.mithra.test.ParaLikeBiTemporalDirector(
+		TestPositionPriceFinder.businessDate()
+	,
+		TestPositionPriceFinder.processingDate()
+	, TestPositionPriceFinder.zGetDoubleAttributes(),TestPositionPriceFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestPositionPrice.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestPositionPriceAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestPositionPriceFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestPositionPriceFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestPositionPriceAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public TestPositionPriceData zSynchronizedGetData()
+	{
+		return (TestPositionPriceData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestPositionPriceFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TestPositionPriceFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestPositionPrice zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestPositionPrice original = (TestPositionPrice) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TestPositionPrice copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestPositionPrice) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestPositionPrice copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestPositionPrice) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			TestPositionPriceFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TestPositionPrice getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestPositionPriceAbstract result = (TestPositionPriceAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestPositionPrice ) result;
+	}
+
+	public TestPositionPrice zFindOriginal()
+	{
+		TestPositionPriceData data = (TestPositionPriceData) this.currentData;
+		Operation op;
+		op = TestPositionPriceFinder.accountId().eq(data.getAccountId());
+		op = op.and(TestPositionPriceFinder.productId().eq(data.getProductId()));
+		op = op.and(TestPositionPriceFinder.positionType().eq(data.getPositionType()));
+		op = op.and(TestPositionPriceFinder.balanceType().eq(data.getBalanceType()));
+		op = op.and(TestPositionPriceFinder.currency().eq(data.getCurrency()));
+		op = op.and(TestPositionPriceFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(TestPositionPriceFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TestPositionPriceFinder.processingDate().eq(this.getProcessingDate()));
+		return TestPositionPriceFinder.findOne(op);
+	}
+
+	public TestPositionPrice getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestPositionPriceAbstract result = (TestPositionPriceAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestPositionPrice ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestPositionPrice copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestPositionPrice) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestPositionPrice copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestPositionPrice) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestPositionPriceData data = (TestPositionPriceData) this.currentData;
+			Operation op = TestPositionPriceFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestPositionPriceFinder.processingDate().eq(this.processingDate));
+			op = op.and(TestPositionPriceFinder.accountId().eq(data.getAccountId()));
+			op = op.and(TestPositionPriceFinder.balanceType().eq(data.getBalanceType()));
+			op = op.and(TestPositionPriceFinder.currency().eq(data.getCurrency()));
+			op = op.and(TestPositionPriceFinder.positionType().eq(data.getPositionType()));
+			op = op.and(TestPositionPriceFinder.productId().eq(data.getProductId()));
+			op = op.and(TestPositionPriceFinder.acmapCode().eq(data.getAcmapCode()));
+			return TestPositionPriceFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestPositionPriceData data = (TestPositionPriceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestPositionPriceFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestPositionPriceData data = (TestPositionPriceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return this.zSynchronizedGetData().isAccountIdNull();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceTypeNull()
+	{
+		return this.zSynchronizedGetData().isBalanceTypeNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.zSynchronizedGetData().isCurrencyNull();
+	}
+
+	public boolean isMarketValueNull()
+	{
+		return this.zSynchronizedGetData().isMarketValueNull();
+	}
+
+	public boolean isPositionTypeNull()
+	{
+		return this.zSynchronizedGetData().isPositionTypeNull();
+	}
+
+	public boolean isPriceTypeNull()
+	{
+		return this.zSynchronizedGetData().isPriceTypeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return this.zSynchronizedGetData().isSourceIdNull();
+	}
+
+	public String getAccountId()
+	{
+		return this.zSynchronizedGetData().getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionPriceFinder.accountId(), newValue, true );
+	}
+
+	public void setAccountIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionPriceFinder.accountId(), newValue, true , exclusiveUntil);
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TestPositionPriceFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(TestPositionPriceFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public int getBalanceType()
+	{
+		return this.zSynchronizedGetData().getBalanceType();
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.balanceType(), newValue, true ,false);
+	}
+
+	public void setBalanceTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionPriceFinder.balanceType(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionPriceFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionPriceFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getCurrency()
+	{
+		return this.zSynchronizedGetData().getCurrency();
+	}
+
+	public void setCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionPriceFinder.currency(), newValue, true );
+	}
+
+	public void setCurrencyUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionPriceFinder.currency(), newValue, true , exclusiveUntil);
+	}
+
+	public double getMarketValue()
+	{
+		TestPositionPriceData data = this.zSynchronizedGetData();
+		if (data.isMarketValueNull()) MithraNullPrimitiveException.throwNew("marketValue", data);
+		return data.getMarketValue();
+	}
+
+	public void setMarketValue(double newValue)
+	{
+		zSetDouble(TestPositionPriceFinder.marketValue(), newValue, false ,true);
+	}
+
+	public void setMarketValueUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(TestPositionPriceFinder.marketValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementMarketValue(double increment)
+	{
+		zIncrement(increment, TestPositionPriceFinder.marketValue(), false);
+	}
+
+	public void incrementMarketValueUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, TestPositionPriceFinder.marketValue(), false);
+	}
+
+	public int getPositionType()
+	{
+		return this.zSynchronizedGetData().getPositionType();
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.positionType(), newValue, true ,false);
+	}
+
+	public void setPositionTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionPriceFinder.positionType(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getPriceType()
+	{
+		return this.zSynchronizedGetData().getPriceType();
+	}
+
+	public void setPriceType(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.priceType(), newValue, false ,true);
+	}
+
+	public void setPriceTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionPriceFinder.priceType(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionPriceFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionPriceFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		return this.zSynchronizedGetData().getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.productId(), newValue, true ,false);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionPriceFinder.productId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getSourceId()
+	{
+		return this.zSynchronizedGetData().getSourceId();
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.sourceId(), newValue, false ,true);
+	}
+
+	public void setSourceIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionPriceFinder.sourceId(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestPositionPriceFinder.sourceId(), false, mustCheckCurrent);
+		zNullify(behavior, data, TestPositionPriceFinder.priceType(), false, mustCheckCurrent);
+		zNullify(behavior, data, TestPositionPriceFinder.marketValue(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestPositionPriceData data2 = (TestPositionPriceData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestPositionPriceFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setSourceIdNull()
+	{
+		zNullify(TestPositionPriceFinder.sourceId(), false);
+	}
+
+	public void setSourceIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestPositionPriceFinder.sourceId(), false, exclusiveUntil);
+	}
+
+	public void setPriceTypeNull()
+	{
+		zNullify(TestPositionPriceFinder.priceType(), false);
+	}
+
+	public void setPriceTypeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestPositionPriceFinder.priceType(), false, exclusiveUntil);
+	}
+
+	public void setMarketValueNull()
+	{
+		zNullify(TestPositionPriceFinder.marketValue(), false);
+	}
+
+	public void setMarketValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestPositionPriceFinder.marketValue(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestPositionPriceData _newData = (TestPositionPriceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestPositionPriceData _newData = (TestPositionPriceData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestPositionPriceData _newData = (TestPositionPriceData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TestPositionPriceFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestPositionPriceData.TestPositionPriceDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestPositionPriceData data = (TestPositionPriceData) TestPositionPriceFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestPositionPrice has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestPositionPriceData( TestPositionPriceData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestPositionPriceData( TestPositionPriceData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestPositionPriceFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestPositionPriceFinder.getMithraObjectPortal();
+	}
+
+	public TestPositionPrice getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestPositionPriceAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestPositionPriceAbstract from = (TestPositionPriceAbstract) f;
+		TestPositionPriceData newData = from.zSynchronizedGetData();
+		if (from.isMarketValueNull())
+		{
+			this.setMarketValueNull();
+		}
+		else
+		{
+			this.setMarketValue(newData.getMarketValue());
+		}
+
+		if (from.isPriceTypeNull())
+		{
+			this.setPriceTypeNull();
+		}
+		else
+		{
+			this.setPriceType(newData.getPriceType());
+		}
+
+		if (from.isSourceIdNull())
+		{
+			this.setSourceIdNull();
+		}
+		else
+		{
+			this.setSourceId(newData.getSourceId());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestPositionPriceData _newData = (TestPositionPriceData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestPositionPriceData _newData = (TestPositionPriceData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestPositionPriceAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestPositionPriceAbstract from = (TestPositionPriceAbstract)f;
+		TestPositionPriceData newData = from.zSynchronizedGetData();
+		if (from.isMarketValueNull())
+		{
+			this.setMarketValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setMarketValueUntil(newData.getMarketValue(), exclusiveUntil);
+		}
+
+		if (from.isPriceTypeNull())
+		{
+			this.setPriceTypeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setPriceTypeUntil(newData.getPriceType(), exclusiveUntil);
+		}
+
+		if (from.isSourceIdNull())
+		{
+			this.setSourceIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setSourceIdUntil(newData.getSourceId(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TestPositionPriceData newData = (TestPositionPriceData) d;
+		TestPositionPriceData data = (TestPositionPriceData) nd;
+		if (TestPositionPriceFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestPositionPriceFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestPositionPriceFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.balanceType(), false);
+		changed |= zUpdateString(behavior, data, newData, TestPositionPriceFinder.currency(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TestPositionPriceFinder.marketValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.positionType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.priceType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.productId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.sourceId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestPositionPriceFinder.accountId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestPositionPriceFinder.acmapCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.balanceType(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestPositionPriceFinder.currency(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, TestPositionPriceFinder.marketValue(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.positionType(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.priceType(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.productId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionPriceFinder.sourceId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestPositionPriceData data = ((TestPositionPriceData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestPositionPriceData data = ((TestPositionPriceData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestPositionPriceData data = ((TestPositionPriceData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestPositionPriceFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestPositionPriceFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestPositionPriceData localData = (TestPositionPriceData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,299 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class TestReplicatedObjectAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private boolean active;
+	private String name;
+	private long objectId;
+	private String userId;
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.getUserId() == null;
+	}
+
+	public boolean isActiveNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.active);
+		out.writeObject(this.name);
+		out.writeLong(this.objectId);
+		out.writeObject(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		TestReplicatedObjectData data = new TestReplicatedObjectData();
+		data.setActive(active);
+		data.setName(name);
+		data.setObjectId(objectId);
+		data.setUserId(userId);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public TestReplicatedObject getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		TestReplicatedObjectAbstract copy = (TestReplicatedObjectAbstract) TestReplicatedObjectFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (TestReplicatedObject)copy;
+	}
+
+	protected void zSetFromTestReplicatedObjectData(TestReplicatedObjectData data)
+	{
+		this.setFromTestReplicatedObjectData(data);
+	}
+
+	public void setFromTestReplicatedObjectData(TestReplicatedObjectData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		active = data.isActive();
+		name = data.getName();
+		objectId = data.getObjectId();
+		userId = data.getUserId();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestReplicatedObjectFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromTestReplicatedObjectData((TestReplicatedObjectData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public boolean isActive()
+	{
+		if (isActiveNull()) throwNullPrimitiveException("active");
+		return this.active;
+	}
+
+	public void setActive(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.active = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, TestReplicatedObjectFinder.isFullCache());
+	}
+
+	public long getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.objectId = value;
+	}
+
+	public String getUserId()
+	{
+		return this.userId;
+	}
+
+	public void setUserId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.userId = StringPool.getInstance().getOrAddToCache(value, TestReplicatedObjectFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setActiveNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final TestReplicatedObjectData testReplicatedObjectData = (TestReplicatedObjectData) newData;
+		if (isNullBits0 != testReplicatedObjectData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (active != testReplicatedObjectData.isActive())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(testReplicatedObjectData.getName()) : !testReplicatedObjectData.isNameNull())
+		{
+			return true;
+		}
+
+		if (!isUserIdNull() ? !getUserId().equals(testReplicatedObjectData.getUserId()) : !testReplicatedObjectData.isUserIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeLong(this.objectId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.active = in.readBoolean();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestReplicatedObjectFinder.isFullCache());
+			this.objectId = in.readLong();
+			this.userId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestReplicatedObjectFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.objectId = in.readLong();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = TestReplicatedObjectFinder.objectId().eq(this.getObjectId());
+			return TestReplicatedObjectFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
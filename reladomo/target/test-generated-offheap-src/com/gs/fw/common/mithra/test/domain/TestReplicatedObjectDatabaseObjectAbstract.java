@@ -0,0 +1,489 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestReplicatedObjectDatabaseObjectAbstract extends MithraAbstractDatabaseObject implements MithraDatabaseObject, MithraObjectFactory
+,MithraReplicatedDatabaseObject
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "USERID,\"NAME\",ACTIVE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.USERID,t0.\"NAME\",t0.ACTIVE";
+	private static final String PK_WITH_ALIAS = "t0.OBJECTID = ?";
+	private static final String PK_INDEX_COLS = "OBJECTID";
+	protected TestReplicatedObjectDatabaseObjectAbstract()
+	{
+		super("TestReplicatedObject", "com.gs.fw.common.mithra.test.domain.TestReplicatedObjectFinder",
+			4, 4,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestReplicatedObjectFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestReplicatedObjectFinder.getFinderInstance();
+	}
+
+	public static TestReplicatedObjectData allocateOnHeapData()
+	{
+		return new TestReplicatedObjectData();
+	}
+
+	public static TestReplicatedObjectData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestReplicatedObjectData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestReplicatedObjectData data = new TestReplicatedObjectData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new FullNonDatedCache(TestReplicatedObjectFinder.getPrimaryKeyAttributes(), this, TestReplicatedObjectFinder.getImmutableAttributes());
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new PartialNonDatedCache(TestReplicatedObjectFinder.getPrimaryKeyAttributes(), this, TestReplicatedObjectFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestReplicatedObjectFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestReplicatedObjectFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestReplicatedObjectData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestReplicatedObjectData(1, (TestReplicatedObjectData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestReplicatedObjectPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestReplicatedObjectTableName();
+	}
+
+	public String getTestReplicatedObjectTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestReplicatedObjectData data = (TestReplicatedObjectData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getObjectId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "OBJECTID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.OBJECTID,t0.USERID,t0.\"NAME\",t0.ACTIVE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias).append(".").append("OBJECTID");
+		result.append(",").append(databaseAlias).append(".").append("USERID");
+		result.append(",").append(databaseAlias).append(".").append("\"NAME\"");
+		result.append(",").append(databaseAlias).append(".").append("ACTIVE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestReplicatedObjectData inflateTestReplicatedObjectData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestReplicatedObjectData data = inflateTestReplicatedObjectPkData(rs, dt);
+		inflateNonPkTestReplicatedObjectData(2, data, rs, dt);
+		return data;
+	}
+
+	public TestReplicatedObjectData inflateTestReplicatedObjectPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestReplicatedObjectData _data = new TestReplicatedObjectData();
+		int _pos = 1;
+		_data.setObjectId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "objectId");
+		return _data;
+	}
+
+	public void inflateNonPkTestReplicatedObjectData(int _pos, TestReplicatedObjectData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestReplicatedObjectData _data = _datax;
+			_data.setUserId(trimString(_rs.getString(_pos++)));
+			_data.setName(trimString(_rs.getString(_pos++)));
+			_data.setActive(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setActiveNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TEST_REPLICATED_OBJECT";
+	}
+
+	public boolean isReplicated()
+	{
+		return true;
+	}
+
+	private String getFullyQualifiedChildQueueTableName()
+	{
+		return this.getFullyQualifiedChildQueueTableNameGenericSource(null);
+	}
+
+	public String getReplicationTableColumnList(String databaseAlias)
+	{
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*4);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("OBJECTID");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("action");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("event_seq_no");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("last_update_time");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("last_update_userid");
+		return result.toString();
+	}
+
+	public void inflateReplicatedAsOfAttributeTestReplicatedObjectData(int _pos, TestReplicatedObjectData _data, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+	}
+
+	public Map findReplicatedData(int minEventId, int maxEventId)
+	{
+		Map replicationRowsByActionMap = new HashMap(3);
+		long startTime = System.currentTimeMillis();
+		DatabaseType dt = this.getDatabaseType();
+		StringBuffer fromClause = new StringBuffer();
+		fromClause.append(this.getFullyQualifiedChildQueueTableName());
+		fromClause.append(" "+SqlQuery.DEFAULT_DATABASE_ALIAS);
+		String whereClause = "event_seq_no >= ? and event_seq_no <= ?";
+		String statement = dt.getSelect(this.getReplicationTableColumnList(SqlQuery.DEFAULT_DATABASE_ALIAS), fromClause.toString(), whereClause, true);
+		Connection con = null;
+		ResultSet rs = null;
+		PreparedStatement stm = null;
+		long count = 0;
+		try
+		{
+			con = this.getConnectionForReadGenericSource(null);
+			if(sqlLogger.isDebugEnabled())
+			{
+				PrintablePreparedStatement pps = new PrintablePreparedStatement(statement);
+				pps.setInt(1, minEventId);
+				pps.setInt(2, maxEventId);
+				sqlLogger.debug("find with: " + pps.getPrintableStatement());
+			}
+
+			stm = con.prepareStatement(statement);
+			stm.setInt(1, minEventId);
+			stm.setInt(2, maxEventId);
+			rs = stm.executeQuery();
+			while (rs.next())
+			{
+				TestReplicatedObjectData data = this.inflateTestReplicatedObjectPkData(rs, dt);
+				inflateReplicatedAsOfAttributeTestReplicatedObjectData(2, data, rs, dt);
+				String action = rs.getString(2);
+				List replicationRowsByActionList = (List) replicationRowsByActionMap.get(action);
+				if(replicationRowsByActionList == null)
+				{
+					replicationRowsByActionList = new ArrayList();
+					replicationRowsByActionMap.put(action, replicationRowsByActionList);
+				}
+
+				replicationRowsByActionList.add(data);
+				count++;
+			}
+
+			rs.close();
+			rs = null;
+			stm.close();
+			stm = null;
+		}
+
+		catch(SQLException e)
+		{
+			analyzeAndWrapSqlException("find failed "+e.getMessage(), e, con);
+		}
+
+		finally
+		{
+			closeDatabaseObjects(con, stm, rs);
+		}
+
+		if(sqlLogger.isDebugEnabled())
+		{
+			long totalTime = System.currentTimeMillis() - startTime;
+			sqlLogger.debug("retrieved " + count+" objects, "+
+			(count > 0 ? totalTime/count +" ms per" : totalTime + " ms"));
+		}
+
+		return replicationRowsByActionMap;
+	}
+
+	public void createChildQueueTestTable()
+	{
+		DatabaseType dt = this.getDatabaseType();
+		StringBuffer statement = new StringBuffer("create table ");
+		statement.append(this.getFullyQualifiedChildQueueTableName());
+		statement.append("( event_seq_no numeric(10,0) not null, ");
+		statement.append(" last_update_time "+dt.getSqlDataTypeForTimestamp());
+		statement.append(" , ");
+		statement.append(" OBJECTID bigint not null,");
+		statement.append(" action char(1) not null, ");
+		statement.append(" last_update_userid char(30) not null )");
+		executeSqlStatementGenericSource(statement.toString(), null );
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		TestReplicatedObject newObject = new TestReplicatedObject();
+		newObject.zSetFromTestReplicatedObjectData((TestReplicatedObjectData) newData);
+		return newObject;
+	}
+
+	public void analyzeChangeForReload(PrimaryKeyIndex fullUniqueIndex, MithraDataObject data, List newDataList, List updatedDataList)
+	{
+		TestReplicatedObject object = fullUniqueIndex == null ? null : (TestReplicatedObject) fullUniqueIndex.removeUsingUnderlying(data);
+		if (object == null)
+		{
+			newDataList.add(createObject(data));
+		}
+		else
+		{
+			if (object.zChanged(data))
+			{
+				updatedDataList.add(data);
+			}
+		}
+	}
+}
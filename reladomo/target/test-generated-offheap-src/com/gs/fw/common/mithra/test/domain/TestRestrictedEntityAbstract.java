@@ -0,0 +1,1258 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestRestrictedEntityAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		TestRestrictedEntityFinder.businessDate()
+	,
+		TestRestrictedEntityFinder.processingDate()
+	, TestRestrictedEntityFinder.zGetDoubleAttributes(),TestRestrictedEntityFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestRestrictedEntity.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forrestrictedItem = new RestrictedItemRhs();
+	private static final RelationshipHashStrategy forcontrolledEntry = new ControlledEntryRhs();
+	private static final class RestrictedItemRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = TestRestrictedItemFinder.businessDate();
+		private AsOfAttribute processingDate = TestRestrictedItemFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestRestrictedEntity _castedSrcObject = (TestRestrictedEntity) _srcObject;
+			TestRestrictedEntityData _castedSrcData = (TestRestrictedEntityData) _srcData;
+			TestRestrictedItemData _castedTargetData = (TestRestrictedItemData) _targetData;
+			if (_castedSrcData.getRestrictedItemId() == _castedTargetData.getRestrictedItemId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestRestrictedEntityData _castedSrcData = (TestRestrictedEntityData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRestrictedItemId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ControlledEntryRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = TestControlledEntryFinder.businessDate();
+		private AsOfAttribute processingDate = TestControlledEntryFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestRestrictedEntity _castedSrcObject = (TestRestrictedEntity) _srcObject;
+			TestRestrictedEntityData _castedSrcData = (TestRestrictedEntityData) _srcData;
+			TestControlledEntryData _castedTargetData = (TestControlledEntryData) _targetData;
+			if (!_castedSrcData.isControlledEntryIdNull() && _castedSrcData.getControlledEntryId() == _castedTargetData.getControlledEntryId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestRestrictedEntityData _castedSrcData = (TestRestrictedEntityData) _srcData;
+			return HashUtil.hash(_castedSrcData.getControlledEntryId(), _castedSrcData.isControlledEntryIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isRestrictedItemModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestRestrictedEntityData _data = (TestRestrictedEntityData) _behavior.getCurrentDataForRead(this);
+		if (_data.getRestrictedItem() instanceof NulledRelation)
+		{
+			TestRestrictedItem _existing = this.getOriginalPersistentObject().getRestrictedItem();
+			return _existing != null;
+		}
+
+		TestRestrictedItem restrictedItem =
+		(TestRestrictedItem) _data.getRestrictedItem();
+		if( restrictedItem != null)
+		{
+			return restrictedItem.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public TestRestrictedEntityAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestRestrictedEntityFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestRestrictedEntityFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestRestrictedEntityAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public TestRestrictedEntityData zSynchronizedGetData()
+	{
+		return (TestRestrictedEntityData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestRestrictedEntityFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TestRestrictedEntityFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertUntil(this, exclusiveUntil);
+	}
+
+	public void insertForRecovery() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertForRecovery(this);
+	}
+
+	public void insertWithIncrement() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrement(this);
+	}
+
+	public void insertWithIncrementUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrementUntil(this, exclusiveUntil);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		TestRestrictedEntityData _data = (TestRestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+		TestRestrictedItem restrictedItem =
+		(TestRestrictedItem ) _data.getRestrictedItem();
+		_behavior.insert(this);
+		if (restrictedItem != null)
+		{
+			restrictedItem.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TestRestrictedEntityFinder.TestRestrictedEntityRelatedFinder parentFinder = (TestRestrictedEntityFinder.TestRestrictedEntityRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestRestrictedEntityData _newData = (TestRestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getRestrictedItem() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.restrictedItem();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			TestRestrictedItem restrictedItem =
+			(TestRestrictedItem) _newData.getRestrictedItem();
+			RelatedFinder dependentFinder = parentFinder.restrictedItem();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, restrictedItem != null, navigationStats);
+			if (restrictedItem != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(restrictedItem, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public TestRestrictedEntity zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		TestRestrictedEntityData _data = (TestRestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+		TestRestrictedItem restrictedItem =
+		(TestRestrictedItem ) _data.getRestrictedItem();
+		TestRestrictedEntity original = (TestRestrictedEntity) _behavior.copyThenInsert(this);
+		if (restrictedItem != null)
+		{
+			restrictedItem.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		{
+			TestRestrictedItem related = this.getRestrictedItem();
+			if (related != null)
+			related.cascadeInsertUntil(exclusiveUntil);
+		}
+
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TestRestrictedEntity copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestRestrictedEntity) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestRestrictedEntity copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestRestrictedEntity) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			TestRestrictedEntityFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TestRestrictedEntity getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestRestrictedEntityAbstract result = (TestRestrictedEntityAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestRestrictedEntity ) result;
+	}
+
+	public TestRestrictedEntity zFindOriginal()
+	{
+		TestRestrictedEntityData data = (TestRestrictedEntityData) this.currentData;
+		Operation op;
+		op = TestRestrictedEntityFinder.restrictedItemId().eq(data.getRestrictedItemId());
+		op = op.and(TestRestrictedEntityFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TestRestrictedEntityFinder.processingDate().eq(this.getProcessingDate()));
+		return TestRestrictedEntityFinder.findOne(op);
+	}
+
+	public TestRestrictedEntity getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestRestrictedEntityAbstract result = (TestRestrictedEntityAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestRestrictedEntity ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isRestrictedItemModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestRestrictedEntity copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestRestrictedEntity) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestRestrictedEntity copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestRestrictedEntity) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestRestrictedEntityData data = (TestRestrictedEntityData) this.currentData;
+			Operation op = TestRestrictedEntityFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestRestrictedEntityFinder.processingDate().eq(this.processingDate));
+			op = op.and(TestRestrictedEntityFinder.restrictedItemId().eq(data.getRestrictedItemId()));
+			return TestRestrictedEntityFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestRestrictedEntityData data = (TestRestrictedEntityData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestRestrictedEntityFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestRestrictedEntityData data = (TestRestrictedEntityData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isControlledEntryIdNull()
+	{
+		return this.zSynchronizedGetData().isControlledEntryIdNull();
+	}
+
+	public boolean isEntityIdNull()
+	{
+		return this.zSynchronizedGetData().isEntityIdNull();
+	}
+
+	public boolean isEntityNameNull()
+	{
+		return this.zSynchronizedGetData().isEntityNameNull();
+	}
+
+	public boolean isEntityTypeNull()
+	{
+		return this.zSynchronizedGetData().isEntityTypeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isRestrictedItemIdNull()
+	{
+		return this.zSynchronizedGetData().isRestrictedItemIdNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedEntityFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedEntityFinder.businessDateTo(), newValue, false );
+	}
+
+	public long getControlledEntryId()
+	{
+		TestRestrictedEntityData data = this.zSynchronizedGetData();
+		if (data.isControlledEntryIdNull()) MithraNullPrimitiveException.throwNew("controlledEntryId", data);
+		return data.getControlledEntryId();
+	}
+
+	public void setControlledEntryId(long newValue)
+	{
+		zSetLong(TestRestrictedEntityFinder.controlledEntryId(), newValue, false ,true);
+	}
+
+	public void setControlledEntryIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(TestRestrictedEntityFinder.controlledEntryId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public int getEntityId()
+	{
+		TestRestrictedEntityData data = this.zSynchronizedGetData();
+		if (data.isEntityIdNull()) MithraNullPrimitiveException.throwNew("entityId", data);
+		return data.getEntityId();
+	}
+
+	public void setEntityId(int newValue)
+	{
+		zSetInteger(TestRestrictedEntityFinder.entityId(), newValue, false ,true);
+	}
+
+	public void setEntityIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestRestrictedEntityFinder.entityId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getEntityName()
+	{
+		return this.zSynchronizedGetData().getEntityName();
+	}
+
+	public void setEntityName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'entityName' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(TestRestrictedEntityFinder.entityName(), newValue, false );
+	}
+
+	public void setEntityNameUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'entityName' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(TestRestrictedEntityFinder.entityName(), newValue, false , exclusiveUntil);
+	}
+
+	public String getEntityType()
+	{
+		return this.zSynchronizedGetData().getEntityType();
+	}
+
+	public void setEntityType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'entityType' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestRestrictedEntityFinder.entityType(), newValue, false );
+	}
+
+	public void setEntityTypeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'entityType' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestRestrictedEntityFinder.entityType(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedEntityFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedEntityFinder.processingDateTo(), newValue, false );
+	}
+
+	public long getRestrictedItemId()
+	{
+		return this.zSynchronizedGetData().getRestrictedItemId();
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		MithraDataObject d = zSetLong(TestRestrictedEntityFinder.restrictedItemId(), newValue, true ,false);
+		if (d == null) return;
+		TestRestrictedEntityData data = (TestRestrictedEntityData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			TestRestrictedItem restrictedItem =
+			(TestRestrictedItem) data.getRestrictedItem();
+			if (restrictedItem != null)
+			{
+				restrictedItem.setRestrictedItemId(newValue);
+			}
+		}
+	}
+
+	public void setRestrictedItemIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetLong(TestRestrictedEntityFinder.restrictedItemId(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		TestRestrictedEntityData data = (TestRestrictedEntityData) d;
+		TestRestrictedItem restrictedItem =
+		(TestRestrictedItem) data.getRestrictedItem();
+		if (restrictedItem != null)
+		{
+			restrictedItem.setRestrictedItemId(newValue);
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestRestrictedEntityFinder.controlledEntryId(), false, mustCheckCurrent);
+		zNullify(behavior, data, TestRestrictedEntityFinder.entityId(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestRestrictedEntityData data2 = (TestRestrictedEntityData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestRestrictedEntityFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setControlledEntryIdNull()
+	{
+		zNullify(TestRestrictedEntityFinder.controlledEntryId(), false);
+	}
+
+	public void setControlledEntryIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestRestrictedEntityFinder.controlledEntryId(), false, exclusiveUntil);
+	}
+
+	public void setEntityIdNull()
+	{
+		zNullify(TestRestrictedEntityFinder.entityId(), false);
+	}
+
+	public void setEntityIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestRestrictedEntityFinder.entityId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestRestrictedEntityData _newData = (TestRestrictedEntityData) _data;
+		if (_newData.getRestrictedItem() instanceof NulledRelation)
+		{
+			TestRestrictedItem restrictedItem =
+			this.getRestrictedItem();
+			if (restrictedItem != null)
+			{
+				restrictedItem.cascadeTerminate();
+			}
+		}
+		else
+		{
+			TestRestrictedItem restrictedItem =
+			(TestRestrictedItem) _newData.getRestrictedItem();
+			if (restrictedItem != null)
+			{
+				TestRestrictedItem _existing =
+				this.getRestrictedItem();
+				if (_existing == null)
+				{
+					restrictedItem.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(restrictedItem.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(restrictedItem.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestRestrictedEntityData _newData = (TestRestrictedEntityData) behavior.getCurrentDataForRead(this);
+		if (_newData.getRestrictedItem() != null && !(_newData.getRestrictedItem() instanceof NulledRelation))
+		{
+			((TestRestrictedItem)_newData.getRestrictedItem()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestRestrictedEntityData _newData = (TestRestrictedEntityData) behavior.getCurrentDataForRead(this);
+		if (_newData.getRestrictedItem() != null && !(_newData.getRestrictedItem() instanceof NulledRelation))
+		{
+			((TestRestrictedItem)_newData.getRestrictedItem()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestRestrictedItem.restrictedItemId = this.restrictedItemId</pre>
+	* @see TestRestrictedItem#getRestrictedEntity() reverse relationship TestRestrictedItem.getRestrictedEntity()
+	* @return The restricted item
+	*/
+	public TestRestrictedItem getRestrictedItem()
+	{
+		TestRestrictedItem _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestRestrictedEntityData _data = (TestRestrictedEntityData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestRestrictedItemFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrestrictedItem,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (TestRestrictedItem) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(TestRestrictedEntityFinder.restrictedItem().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getRestrictedItem() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestRestrictedItem) _data.getRestrictedItem();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestRestrictedEntityFinder.restrictedItem().zGetRelationshipMultiExtractor(), this);
+					_result = TestRestrictedItemFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (TestRestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+				_data.setRestrictedItem(_result);
+				if (_result != null) _result.zSetParentContainerrestrictedEntity(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestRestrictedItem) _data.getRestrictedItem();
+		}
+
+		if (_op != null)
+		{
+			_result = TestRestrictedItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRestrictedItem(TestRestrictedItem restrictedItem)
+	{
+		TestRestrictedItem _restrictedItem = (TestRestrictedItem) restrictedItem;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestRestrictedEntityData _data = (TestRestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getRestrictedItem();
+			_data.setRestrictedItem(_restrictedItem);
+			if (_restrictedItem != null)
+			{
+				_restrictedItem.setRestrictedItemId(_data.getRestrictedItemId());
+				_restrictedItem.zSetParentContainerrestrictedEntity(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setRestrictedItem(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			TestRestrictedItem _existing = this.getRestrictedItem();
+			if (_restrictedItem != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_restrictedItem != null)
+				{
+					_restrictedItem.setRestrictedItemId(_data.getRestrictedItemId());
+					_restrictedItem.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.controlledEntryId = TestControlledEntry.controlledEntryId</pre>
+	* @see TestControlledEntry#getRestrictedEntities() reverse relationship TestControlledEntry.getRestrictedEntities()
+	* @return The controlled entry
+	*/
+	public TestControlledEntry getControlledEntry()
+	{
+		TestControlledEntry _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestRestrictedEntityData _data = (TestRestrictedEntityData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isControlledEntryIdNull())
+			{
+				_portal = TestControlledEntryFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forcontrolledEntry,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (TestControlledEntry) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(TestRestrictedEntityFinder.controlledEntry().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getControlledEntry() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestControlledEntry) _data.getControlledEntry();
+			if (_result == null)
+			{
+				if (!_data.isControlledEntryIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestRestrictedEntityFinder.controlledEntry().zGetRelationshipMultiExtractor(), this);
+					_result = TestControlledEntryFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (TestRestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+				_data.setControlledEntry(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestControlledEntry) _data.getControlledEntry();
+			if (_result == null)
+			{
+				if (!_data.isControlledEntryIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(TestRestrictedEntityFinder.controlledEntry().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestControlledEntryFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setControlledEntry(TestControlledEntry controlledEntry)
+	{
+		TestControlledEntry _controlledEntry = (TestControlledEntry) controlledEntry;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestRestrictedEntityData _data = (TestRestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getControlledEntry();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((TestControlledEntry)_prev).getRestrictedEntities()).zMarkMoved( (TestRestrictedEntity) this);
+			}
+
+			_data.setControlledEntry(_controlledEntry);
+			_controlledEntry.getRestrictedEntities().add((TestRestrictedEntity) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_controlledEntry == null)
+			{
+				this.setControlledEntryIdNull();
+			}
+			else
+			{
+				this.setControlledEntryId(
+					_controlledEntry.getControlledEntryId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainercontrolledEntry(TestControlledEntryAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestRestrictedEntityData _data = (TestRestrictedEntityData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setControlledEntry(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return TestRestrictedEntityFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestRestrictedEntityData.TestRestrictedEntityDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestRestrictedEntityData data = (TestRestrictedEntityData) TestRestrictedEntityFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestRestrictedEntity has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestRestrictedEntityData( TestRestrictedEntityData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestRestrictedEntityData( TestRestrictedEntityData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestRestrictedEntityFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestRestrictedEntityFinder.getMithraObjectPortal();
+	}
+
+	public TestRestrictedEntity getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestRestrictedEntityAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestRestrictedEntityAbstract from = (TestRestrictedEntityAbstract) f;
+		TestRestrictedEntityData newData = from.zSynchronizedGetData();
+		if (from.isControlledEntryIdNull())
+		{
+			this.setControlledEntryIdNull();
+		}
+		else
+		{
+			this.setControlledEntryId(newData.getControlledEntryId());
+		}
+
+		if (from.isEntityIdNull())
+		{
+			this.setEntityIdNull();
+		}
+		else
+		{
+			this.setEntityId(newData.getEntityId());
+		}
+
+		this.setEntityName(newData.getEntityName());
+		this.setEntityType(newData.getEntityType());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestRestrictedEntityData _newData = (TestRestrictedEntityData) _data;
+		if (_newData.getRestrictedItem() instanceof NulledRelation)
+		{
+			TestRestrictedItem restrictedItem =
+			this.getRestrictedItem();
+			if (restrictedItem != null)
+			{
+				restrictedItem.cascadeTerminate();
+			}
+		}
+		else
+		{
+			TestRestrictedItem restrictedItem =
+			(TestRestrictedItem) _newData.getRestrictedItem();
+			if (restrictedItem != null)
+			{
+				TestRestrictedItem _existing =
+				this.getRestrictedItem();
+				if (_existing == null)
+				{
+					restrictedItem.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+				}
+				else
+				{
+					_existing.copyNonPrimaryKeyAttributesUntilFrom( restrictedItem, exclusiveUntil );
+				}
+			}
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestRestrictedEntityData _newData = (TestRestrictedEntityData) _data;
+		TestRestrictedItem restrictedItem =
+		(TestRestrictedItem) _newData.getRestrictedItem();
+		if (restrictedItem != null)
+		{
+			restrictedItem.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestRestrictedEntityAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestRestrictedEntityAbstract from = (TestRestrictedEntityAbstract)f;
+		TestRestrictedEntityData newData = from.zSynchronizedGetData();
+		if (from.isControlledEntryIdNull())
+		{
+			this.setControlledEntryIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setControlledEntryIdUntil(newData.getControlledEntryId(), exclusiveUntil);
+		}
+
+		if (from.isEntityIdNull())
+		{
+			this.setEntityIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setEntityIdUntil(newData.getEntityId(), exclusiveUntil);
+		}
+
+		this.setEntityNameUntil(newData.getEntityName(), exclusiveUntil);
+		this.setEntityTypeUntil(newData.getEntityType(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TestRestrictedEntityData newData = (TestRestrictedEntityData) d;
+		TestRestrictedEntityData data = (TestRestrictedEntityData) nd;
+		if (TestRestrictedEntityFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedEntityFinder.controlledEntryId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestRestrictedEntityFinder.entityId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedEntityFinder.entityName(), false);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedEntityFinder.entityType(), false);
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedEntityFinder.restrictedItemId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedEntityFinder.controlledEntryId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestRestrictedEntityFinder.entityId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedEntityFinder.entityName(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedEntityFinder.entityType(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedEntityFinder.restrictedItemId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		{
+			TestRestrictedItem related = this.getRestrictedItem();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		{
+			TestRestrictedItem related = this.getRestrictedItem();
+			if (related != null)
+			related.cascadeTerminateUntil(exclusiveUntil);
+		}
+
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestRestrictedEntityData data = ((TestRestrictedEntityData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestRestrictedEntityData data = ((TestRestrictedEntityData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestRestrictedEntityData data = ((TestRestrictedEntityData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public long generateAndSetRestrictedItemId()
+	{
+		long nextValue =(long) this.generateRestrictedItemId();
+		this.setRestrictedItemId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsRestrictedItemIdSet()
+	{
+		TestRestrictedEntityData data = this.zSynchronizedGetData();
+		return data.zGetIsRestrictedItemIdSet();
+	}
+
+	protected long generateRestrictedItemId()
+	{
+		Object sourceAttribute = null;
+		TestRestrictedEntityFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("RESTRICTED_ITEM_SEQ", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		TestRestrictedEntityData data = (TestRestrictedEntityData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsRestrictedItemIdSet())
+		{
+			long newValue = this.generateRestrictedItemId();
+			data.setRestrictedItemId(newValue);
+			TestRestrictedItem restrictedItem =
+			(TestRestrictedItem ) data.getRestrictedItem();
+			if (restrictedItem != null)
+			{
+				restrictedItem.setRestrictedItemId(newValue);
+			}
+		}
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestRestrictedEntityFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestRestrictedEntityFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestRestrictedEntityData localData = (TestRestrictedEntityData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class RestrictedItemAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestRestrictedItem item = (TestRestrictedItem) relatedObject;
+			item.setRestrictedItemId(getRestrictedItemId());
+			item.zSetParentContainerrestrictedEntity(TestRestrictedEntityAbstract.this);
+		}
+	}
+
+	protected class RestrictedItemAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestRestrictedItem item = (TestRestrictedItem) relatedObject;
+			item.setRestrictedItemId(getRestrictedItemId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,1290 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestRestrictedEntityData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 68;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isControlledEntryIdNull();
+	long getControlledEntryId();
+	void setControlledEntryId(long value);
+	void setControlledEntryIdNull();
+	boolean isEntityIdNull();
+	int getEntityId();
+	void setEntityId(int value);
+	void setEntityIdNull();
+	boolean isEntityNameNull();
+	String getEntityName();
+	void setEntityName(String value);
+	void setEntityNameNull();
+	int zGetEntityNameAsInt();
+	boolean isEntityTypeNull();
+	String getEntityType();
+	void setEntityType(String value);
+	void setEntityTypeNull();
+	int zGetEntityTypeAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isRestrictedItemIdNull();
+	long getRestrictedItemId();
+	void setRestrictedItemId(long value);
+	void setRestrictedItemIdNull();
+	boolean zGetIsRestrictedItemIdSet();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getRestrictedItem();
+	void setRestrictedItem(Object related);
+	Object getControlledEntry();
+	void setControlledEntry(Object related);
+	public class TestRestrictedEntityDataOnHeap implements TestRestrictedEntityData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private long controlledEntryId;
+		private int entityId;
+		private String entityName;
+		private String entityType;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private long restrictedItemId;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isEntityNameNull()
+		{
+			return this.getEntityName() == null;
+		}
+
+		public boolean isEntityTypeNull()
+		{
+			return this.getEntityType() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isRestrictedItemIdNull()
+		{
+			return false;
+		}
+
+		public boolean isControlledEntryIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isEntityIdNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.businessDateTo, TestRestrictedEntityFinder.businessDate().getInfinityDate());
+			out.writeLong(this.controlledEntryId);
+			out.writeInt(this.entityId);
+			out.writeObject(this.entityName);
+			out.writeObject(this.entityType);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, TestRestrictedEntityFinder.processingDate().getInfinityDate());
+			out.writeLong(this.restrictedItemId);
+			out.writeBoolean(_isRestrictedItemIdSet);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getControlledEntryId()
+		{
+			return this.controlledEntryId;
+		}
+
+		public void setControlledEntryId(long value)
+		{
+			this.controlledEntryId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public int getEntityId()
+		{
+			return this.entityId;
+		}
+
+		public void setEntityId(int value)
+		{
+			this.entityId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public String getEntityName()
+		{
+			return this.entityName;
+		}
+
+		public int zGetEntityNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(entityName);
+		}
+
+		public void setEntityName(String value)
+		{
+			this.entityName = StringPool.getInstance().getOrAddToCache(value, TestRestrictedEntityFinder.isFullCache());
+		}
+
+		public void setEntityNameNull()
+		{
+			this.setEntityName(null);
+		}
+
+		public String getEntityType()
+		{
+			return this.entityType;
+		}
+
+		public int zGetEntityTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(entityType);
+		}
+
+		public void setEntityType(String value)
+		{
+			this.entityType = StringPool.getInstance().getOrAddToCache(value, TestRestrictedEntityFinder.isFullCache());
+		}
+
+		public void setEntityTypeNull()
+		{
+			this.setEntityType(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedItemId()
+		{
+			return this.restrictedItemId;
+		}
+
+		public void setRestrictedItemId(long value)
+		{
+			this.restrictedItemId = value;
+			_isRestrictedItemIdSet = true;
+		}
+
+		public void setRestrictedItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public void setControlledEntryIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setEntityIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public boolean _isRestrictedItemIdSet;
+		public boolean zGetIsRestrictedItemIdSet()
+		{
+			return _isRestrictedItemIdSet;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestRestrictedEntityDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.controlledEntryId = this.controlledEntryId;
+			copy.entityId = this.entityId;
+			copy.entityName = this.entityName;
+			copy.entityType = this.entityType;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.restrictedItemId = this.restrictedItemId;
+			copy._isRestrictedItemIdSet = this._isRestrictedItemIdSet;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[2];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestRestrictedEntityFinder.businessDate().getInfinityDate()), TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+			this.controlledEntryId = in.readLong();
+			this.entityId = in.readInt();
+			this.entityName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestRestrictedEntityFinder.isFullCache());
+			this.entityType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestRestrictedEntityFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestRestrictedEntityFinder.processingDate().getInfinityDate()), TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+			this.restrictedItemId = in.readLong();
+			_isRestrictedItemIdSet = in.readBoolean();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestRestrictedEntityData otherData = (TestRestrictedEntityData) other;
+			if (getRestrictedItemId() != otherData.getRestrictedItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.businessDateTo, TestRestrictedEntityFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, TestRestrictedEntityFinder.processingDate().getInfinityDate());
+			out.writeLong(this.restrictedItemId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestRestrictedEntityFinder.businessDate().getInfinityDate()), TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestRestrictedEntityFinder.processingDate().getInfinityDate()), TestRestrictedEntityFinder.isFullCache(), TestRestrictedEntityFinder.isOffHeap());
+			this.restrictedItemId = in.readLong();
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getRestrictedItem()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setRestrictedItem(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getControlledEntry()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setControlledEntry(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[2];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestRestrictedEntityDataOffHeap data = new TestRestrictedEntityDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setControlledEntryId(this.getControlledEntryId());
+			if (this.isControlledEntryIdNull()) data.setControlledEntryIdNull();
+			data.setEntityId(this.getEntityId());
+			if (this.isEntityIdNull()) data.setEntityIdNull();
+			data.setEntityName(this.getEntityName());
+			data.setEntityType(this.getEntityType());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setRestrictedItemId(this.getRestrictedItemId());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestRestrictedEntityData testRestrictedEntityData = (TestRestrictedEntityData) newData;
+			this.setBusinessDateFrom(testRestrictedEntityData.getBusinessDateFrom());
+			this.setBusinessDateTo(testRestrictedEntityData.getBusinessDateTo());
+			this.setControlledEntryId(testRestrictedEntityData.getControlledEntryId());
+			if (testRestrictedEntityData.isControlledEntryIdNull()) this.setControlledEntryIdNull();
+			this.setEntityId(testRestrictedEntityData.getEntityId());
+			if (testRestrictedEntityData.isEntityIdNull()) this.setEntityIdNull();
+			this.setEntityName(testRestrictedEntityData.getEntityName());
+			this.setEntityType(testRestrictedEntityData.getEntityType());
+			this.setProcessingDateFrom(testRestrictedEntityData.getProcessingDateFrom());
+			this.setProcessingDateTo(testRestrictedEntityData.getProcessingDateTo());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestRestrictedEntityData other = (TestRestrictedEntityData) newData;
+			if ( isControlledEntryIdNull() != other.isControlledEntryIdNull() || getControlledEntryId() != other.getControlledEntryId())
+			{
+				return true;
+			}
+
+			if ( isEntityIdNull() != other.isEntityIdNull() || getEntityId() != other.getEntityId())
+			{
+				return true;
+			}
+
+			if (!isEntityNameNull() ? !getEntityName().equals(other.getEntityName()) : !other.isEntityNameNull())
+			{
+				return true;
+			}
+
+			if (!isEntityTypeNull() ? !getEntityType().equals(other.getEntityType()) : !other.isEntityTypeNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestRestrictedEntityDataOnHeap copy = new TestRestrictedEntityDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestRestrictedEntityDataOnHeap copy = new TestRestrictedEntityDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "restrictedItemId: "+(""+getRestrictedItemId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestRestrictedEntityData otherData = (TestRestrictedEntityData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestRestrictedEntityData otherData = (TestRestrictedEntityData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedEntityData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestRestrictedEntityFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestRestrictedEntityFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedEntityData";
+		}
+	}
+
+	public class TestRestrictedEntityDataOffHeap extends MithraOffHeapDataObject implements TestRestrictedEntityData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestRestrictedEntityDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 52);
+			this.zSetTimestamp(_storage, value, 60);
+		}
+
+		public TestRestrictedEntityDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isControlledEntryIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isEntityIdNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isEntityNameNull()
+		{
+			return zIsStringNull(_storage, 44);
+		}
+
+		public boolean isEntityTypeNull()
+		{
+			return zIsStringNull(_storage, 48);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 52);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 60);
+		}
+
+		public boolean isRestrictedItemIdNull()
+		{
+			return false;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestRestrictedEntityFinder.businessDate().getInfinityDate());
+			out.writeLong(this.getControlledEntryId());
+			out.writeInt(this.getEntityId());
+			out.writeObject(this.getEntityName());
+			out.writeObject(this.getEntityType());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestRestrictedEntityFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getRestrictedItemId());
+			out.writeBoolean(true);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isControlledEntryIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isEntityIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getControlledEntryId()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setControlledEntryId(long value)
+		{
+			zSetLong(_storage, value, 32, 4, 0);
+		}
+
+		public int getEntityId()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setEntityId(int value)
+		{
+			zSetInteger(_storage, value, 40, 4, 1);
+		}
+
+		public String getEntityName()
+		{
+			return zGetString(_storage, 44);
+		}
+
+		public int zGetEntityNameAsInt()
+		{
+			return zGetInteger(_storage, 44);
+		}
+
+		public void setEntityName(String value)
+		{
+			zSetString(_storage, value, 44);
+		}
+
+		public void setEntityNameNull()
+		{
+			this.setEntityName(null);
+		}
+
+		public String getEntityType()
+		{
+			return zGetString(_storage, 48);
+		}
+
+		public int zGetEntityTypeAsInt()
+		{
+			return zGetInteger(_storage, 48);
+		}
+
+		public void setEntityType(String value)
+		{
+			zSetString(_storage, value, 48);
+		}
+
+		public void setEntityTypeNull()
+		{
+			this.setEntityType(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 52);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 52);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 52);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 60);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 60);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 60);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedItemId()
+		{
+			return zGetLong(_storage, 8);
+		}
+
+		public void setRestrictedItemId(long value)
+		{
+			zSetLong(_storage, value, 8, -1, -1);
+		}
+
+		public void setRestrictedItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public void setControlledEntryIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public void setEntityIdNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public boolean zGetIsRestrictedItemIdSet()
+		{
+			return true;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestRestrictedEntityDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.controlledEntryId = this.getControlledEntryId();
+			copy.entityId = this.getEntityId();
+			copy.entityName = this.getEntityName();
+			copy.entityType = this.getEntityType();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.restrictedItemId = this.getRestrictedItemId();
+			if (isControlledEntryIdNull())
+			{
+				copy.setControlledEntryIdNull();
+			}
+
+			if (isEntityIdNull())
+			{
+				copy.setEntityIdNull();
+			}
+
+			copy._isRestrictedItemIdSet = true;
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetLong(_storage, in.readLong(), 32, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetInteger(_storage, in.readInt(), 40, 4, 1, (isNullBits0 & 1 << 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 44);
+			zSetString(_storage, (String)in.readObject(), 48);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 52);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 60);
+			zSetLong(_storage, in.readLong(), 8, -1, -1, false);
+			in.readBoolean();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestRestrictedEntityDataOffHeap)
+			{
+				final TestRestrictedEntityDataOffHeap otherData = (TestRestrictedEntityDataOffHeap) other;
+				if (this.zGetLong(_storage, 8) != otherData.zGetLong(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestRestrictedEntityData otherData = (TestRestrictedEntityData) other;
+			if (getRestrictedItemId() != otherData.getRestrictedItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestRestrictedEntityFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestRestrictedEntityFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getRestrictedItemId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 52);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 60);
+			zSetLong(_storage, in.readLong(), 8, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getRestrictedItem()
+		{
+			return null;
+		}
+
+		public void setRestrictedItem(Object related)
+		{
+		}
+
+		public Object getControlledEntry()
+		{
+			return null;
+		}
+
+		public void setControlledEntry(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestRestrictedEntityData testRestrictedEntityData = (TestRestrictedEntityData) newData;
+			this.setBusinessDateFrom(testRestrictedEntityData.getBusinessDateFrom());
+			this.setBusinessDateTo(testRestrictedEntityData.getBusinessDateTo());
+			this.setControlledEntryId(testRestrictedEntityData.getControlledEntryId());
+			if (testRestrictedEntityData.isControlledEntryIdNull()) this.setControlledEntryIdNull();
+			this.setEntityId(testRestrictedEntityData.getEntityId());
+			if (testRestrictedEntityData.isEntityIdNull()) this.setEntityIdNull();
+			this.setEntityName(testRestrictedEntityData.getEntityName());
+			this.setEntityType(testRestrictedEntityData.getEntityType());
+			this.setProcessingDateFrom(testRestrictedEntityData.getProcessingDateFrom());
+			this.setProcessingDateTo(testRestrictedEntityData.getProcessingDateTo());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestRestrictedEntityData other = (TestRestrictedEntityData) newData;
+			if ( isControlledEntryIdNull() != other.isControlledEntryIdNull() || getControlledEntryId() != other.getControlledEntryId())
+			{
+				return true;
+			}
+
+			if ( isEntityIdNull() != other.isEntityIdNull() || getEntityId() != other.getEntityId())
+			{
+				return true;
+			}
+
+			if (!isEntityNameNull() ? !getEntityName().equals(other.getEntityName()) : !other.isEntityNameNull())
+			{
+				return true;
+			}
+
+			if (!isEntityTypeNull() ? !getEntityType().equals(other.getEntityType()) : !other.isEntityTypeNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestRestrictedEntityDataOnHeap copy = new TestRestrictedEntityDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestRestrictedEntityDataOnHeap copy = new TestRestrictedEntityDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "restrictedItemId: "+(""+getRestrictedItemId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestRestrictedEntityData otherData = (TestRestrictedEntityData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestRestrictedEntityData otherData = (TestRestrictedEntityData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedEntityData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestRestrictedEntityFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestRestrictedEntityFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedEntityData";
+		}
+	}
+}
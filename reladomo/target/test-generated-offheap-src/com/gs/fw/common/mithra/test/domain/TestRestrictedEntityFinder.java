@@ -0,0 +1,1037 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestRestrictedEntityFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestRestrictedEntity";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestRestrictedEntity";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestRestrictedEntity");
+	private static final TestRestrictedEntitySingleFinder<TestRestrictedEntity, Object, TestRestrictedEntity> finder = new TestRestrictedEntitySingleFinder<TestRestrictedEntity, Object, TestRestrictedEntity>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestRestrictedEntityFinder.TestRestrictedEntityRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("restrictedItemId");
+		finderMethodMap.addNormalAttributeName("controlledEntryId");
+		finderMethodMap.addNormalAttributeName("entityId");
+		finderMethodMap.addNormalAttributeName("entityName");
+		finderMethodMap.addNormalAttributeName("entityType");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("restrictedItem");
+		finderMethodMap.addRelationshipName("controlledEntry");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = TestRestrictedEntityFinder.restrictedItemId().constructEqualityMapper(TestRestrictedItemFinder.restrictedItemId());
+			result[1] = TestRestrictedItemFinder.restrictedItemId().constructEqualityMapper(TestRestrictedEntityFinder.restrictedItemId());
+			result[2] = TestRestrictedEntityFinder.businessDate().constructEqualityMapper(TestRestrictedItemFinder.businessDate());
+			result[3] = TestRestrictedItemFinder.businessDate().constructEqualityMapper(TestRestrictedEntityFinder.businessDate());
+			result[4] = TestRestrictedEntityFinder.processingDate().constructEqualityMapper(TestRestrictedItemFinder.processingDate());
+			result[5] = TestRestrictedItemFinder.processingDate().constructEqualityMapper(TestRestrictedEntityFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestRestrictedEntity findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestRestrictedEntity findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestRestrictedEntityList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestRestrictedEntityList) finder.findMany(operation);
+	}
+
+	public static TestRestrictedEntityList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestRestrictedEntityList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestRestrictedEntity findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestRestrictedEntity) FinderUtils.findOne(found);
+	}
+
+	public static TestRestrictedEntity findByPrimaryKey(long restrictedItemId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(restrictedItemId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestRestrictedEntityData _castedTargetData = (TestRestrictedEntityData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getRestrictedItemId())
+			{
+				return TestRestrictedEntityFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TestRestrictedEntityFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static TestRestrictedEntity zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestRestrictedEntity) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestRestrictedEntityRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestRestrictedEntity, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> restrictedItemId;
+		private LongAttribute<ParentOwnerType> controlledEntryId;
+		private IntegerAttribute<ParentOwnerType> entityId;
+		private StringAttribute<ParentOwnerType> entityName;
+		private StringAttribute<ParentOwnerType> entityType;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private TestRestrictedEntityRestrictedItemFinderSubclass<ParentOwnerType> restrictedItem;
+		private TestRestrictedEntityControlledEntryFinderSubclass<ParentOwnerType> controlledEntry;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestRestrictedEntityRelatedFinder()
+		{
+			super();
+		}
+
+		public TestRestrictedEntityRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedEntityFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestRestrictedEntityFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestRestrictedEntityFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestRestrictedEntityFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[9];
+			attributes[0] = this.restrictedItemId();
+			attributes[1] = this.controlledEntryId();
+			attributes[2] = this.entityId();
+			attributes[3] = this.entityName();
+			attributes[4] = this.entityType();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			attributes[7] = this.businessDateFrom();
+			attributes[8] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.restrictedItem());
+				relatedFinders.add(this.controlledEntry());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.restrictedItem());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestRestrictedEntity findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestRestrictedEntityFinder.findOne(operation, false);
+		}
+
+		public TestRestrictedEntity findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestRestrictedEntityFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestRestrictedEntity> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestRestrictedEntityList((Operation) operation);
+		}
+
+		public MithraList<? extends TestRestrictedEntity> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestRestrictedEntityList result = (TestRestrictedEntityList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestRestrictedEntity> constructEmptyList()
+		{
+			return new TestRestrictedEntityList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 22058936;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> restrictedItemId()
+		{
+			LongAttribute<ParentOwnerType> result = this.restrictedItemId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("RESTRICTED_ITEM_ID","","restrictedItemId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,true, false) :
+					new MappedLongAttribute(TestRestrictedEntityFinder.restrictedItemId(), this.mapper, this.zGetValueSelector());
+				this.restrictedItemId = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> controlledEntryId()
+		{
+			LongAttribute<ParentOwnerType> result = this.controlledEntryId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("CONTROLLED_ENTRY_ID","","controlledEntryId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,32,4,0,false, false) :
+					new MappedLongAttribute(TestRestrictedEntityFinder.controlledEntryId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("controlledEntry");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "TestControlledEntry", "restrictedEntities");
+				this.controlledEntryId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> entityId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.entityId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ENTITY_ID","","entityId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,40,4,1,false, false) :
+					new MappedIntegerAttribute(TestRestrictedEntityFinder.entityId(), this.mapper, this.zGetValueSelector());
+				this.entityId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> entityName()
+		{
+			StringAttribute<ParentOwnerType> result = this.entityName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ENTITY_NAME","","entityName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,44,-1,-1,255,true, false) :
+					new MappedStringAttribute(TestRestrictedEntityFinder.entityName(), this.mapper, this.zGetValueSelector());
+				this.entityName = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> entityType()
+		{
+			StringAttribute<ParentOwnerType> result = this.entityType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ENTITY_TYPE","","entityType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,48,-1,-1,20,true, false) :
+					new MappedStringAttribute(TestRestrictedEntityFinder.entityType(), this.mapper, this.zGetValueSelector());
+				this.entityType = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_DT","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,52,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,TestRestrictedEntityFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedEntityFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_DT","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,60,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,TestRestrictedEntityFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedEntityFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_DT","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,TestRestrictedEntityFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedEntityFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_DT","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,TestRestrictedEntityFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedEntityFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestRestrictedEntityFinder.businessDateInfinity,false,false,TestRestrictedEntityFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestRestrictedEntityFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TestRestrictedEntityFinder.processingDateInfinity,false,false,TestRestrictedEntityFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestRestrictedEntityFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public TestRestrictedItemFinder.TestRestrictedItemSingleFinderForRelatedClasses<ParentOwnerType, TestRestrictedItem, TestRestrictedEntity> restrictedItem()
+		{
+			TestRestrictedEntityRestrictedItemFinderSubclass<ParentOwnerType> result = this.restrictedItem;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestRestrictedEntityFinder.zGetTestRestrictedEntityRestrictedItemReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestRestrictedEntityRestrictedItemFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.restrictedItem = result;
+			}
+
+			return result;
+		}
+
+		public TestControlledEntryFinder.TestControlledEntrySingleFinderForRelatedClasses<ParentOwnerType, TestControlledEntry, TestRestrictedEntity> controlledEntry()
+		{
+			TestRestrictedEntityControlledEntryFinderSubclass<ParentOwnerType> result = this.controlledEntry;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestControlledEntryFinder.zGetTestControlledEntryRestrictedEntitiesMapper());
+				newMapper.setToMany(false);
+				result = new TestRestrictedEntityControlledEntryFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.controlledEntry = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestRestrictedEntityFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestRestrictedEntityFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestRestrictedEntityCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestRestrictedEntityRelatedFinder<ParentOwnerType, ReturnType, TestRestrictedEntityList, OwnerType>
+	{
+		public TestRestrictedEntityCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestRestrictedEntityCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestRestrictedEntityCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestRestrictedEntityCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestRestrictedEntitySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestRestrictedEntityRelatedFinder<ParentOwnerType, ReturnType, TestRestrictedEntityList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestRestrictedEntitySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestRestrictedEntitySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestRestrictedEntity other)
+		{
+			return this.restrictedItemId().eq(other.getRestrictedItemId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestRestrictedEntity findByPrimaryKey(long restrictedItemId, Timestamp businessDate, Timestamp processingDate)
+		{
+			TestRestrictedEntity _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(restrictedItemId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestRestrictedEntity) _related;
+			if (_related == null)
+			{
+				_op = this.restrictedItemId().eq(restrictedItemId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestRestrictedEntitySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestRestrictedEntitySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestRestrictedEntitySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper restrictedItemReverseMapper = null;
+	public static Mapper zGetTestRestrictedEntityRestrictedItemReverseMapper()
+	{
+		if (restrictedItemReverseMapper == null)
+		{
+			restrictedItemReverseMapper = zConstructTestRestrictedEntityRestrictedItemReverseMapper();
+		}
+
+		return restrictedItemReverseMapper;
+	}
+
+	private static Mapper restrictedItemMapper = null;
+	public static Mapper zGetTestRestrictedEntityRestrictedItemMapper()
+	{
+		if (restrictedItemMapper == null)
+		{
+			restrictedItemMapper = zConstructTestRestrictedEntityRestrictedItemMapper();
+		}
+
+		return restrictedItemMapper;
+	}
+
+	private static Mapper restrictedItemPureReverseMapper = null;
+	public static Mapper zGetTestRestrictedEntityRestrictedItemPureReverseMapper()
+	{
+		if (restrictedItemPureReverseMapper == null)
+		{
+			restrictedItemPureReverseMapper = zConstructTestRestrictedEntityRestrictedItemPureReverseMapper();
+		}
+
+		return restrictedItemPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestRestrictedEntityRestrictedItemPureReverseMapper()
+	{
+		InternalList restrictedItemMapperMapperList = new InternalList(3);
+		restrictedItemMapperMapperList.add(TestRestrictedEntityFinder.zGetConstantJoin(0));
+		restrictedItemMapperMapperList.add(TestRestrictedEntityFinder.zGetConstantJoin(2));
+		restrictedItemMapperMapperList.add(TestRestrictedEntityFinder.zGetConstantJoin(4));
+		Mapper restrictedItemMapper = new MultiEqualityMapper(restrictedItemMapperMapperList);
+		restrictedItemMapper.setName("restrictedItem");
+		return restrictedItemMapper;
+	}
+
+	private static Mapper zConstructTestRestrictedEntityRestrictedItemReverseMapper()
+	{
+		InternalList restrictedItemMapperMapperList = new InternalList(3);
+		restrictedItemMapperMapperList.add(TestRestrictedEntityFinder.zGetConstantJoin(0));
+		restrictedItemMapperMapperList.add(TestRestrictedEntityFinder.zGetConstantJoin(2));
+		restrictedItemMapperMapperList.add(TestRestrictedEntityFinder.zGetConstantJoin(4));
+		Mapper restrictedItemMapper = new MultiEqualityMapper(restrictedItemMapperMapperList);
+		restrictedItemMapper.setName("restrictedItem");
+		return restrictedItemMapper;
+	}
+
+	private static Mapper zConstructTestRestrictedEntityRestrictedItemMapper()
+	{
+		InternalList restrictedItemMapperMapperList = new InternalList(3);
+		restrictedItemMapperMapperList.add(TestRestrictedEntityFinder.zGetConstantJoin(1));
+		restrictedItemMapperMapperList.add(TestRestrictedEntityFinder.zGetConstantJoin(3));
+		restrictedItemMapperMapperList.add(TestRestrictedEntityFinder.zGetConstantJoin(5));
+		Mapper restrictedItemMapper = new MultiEqualityMapper(restrictedItemMapperMapperList);
+		restrictedItemMapper.setName("restrictedEntity");
+		return restrictedItemMapper;
+	}
+
+	/** maps to TEST_RESTRICTED_ENTITY.RESTRICTED_ITEM_ID **/
+	public static LongAttribute<TestRestrictedEntity> restrictedItemId()
+	{
+		return finder.restrictedItemId();
+	}
+
+	/** maps to TEST_RESTRICTED_ENTITY.CONTROLLED_ENTRY_ID **/
+	public static LongAttribute<TestRestrictedEntity> controlledEntryId()
+	{
+		return finder.controlledEntryId();
+	}
+
+	/** maps to TEST_RESTRICTED_ENTITY.ENTITY_ID **/
+	public static IntegerAttribute<TestRestrictedEntity> entityId()
+	{
+		return finder.entityId();
+	}
+
+	/** maps to TEST_RESTRICTED_ENTITY.ENTITY_NAME **/
+	public static StringAttribute<TestRestrictedEntity> entityName()
+	{
+		return finder.entityName();
+	}
+
+	/** maps to TEST_RESTRICTED_ENTITY.ENTITY_TYPE **/
+	public static StringAttribute<TestRestrictedEntity> entityType()
+	{
+		return finder.entityType();
+	}
+
+	/** maps to TEST_RESTRICTED_ENTITY.IN_DT **/
+	public static TimestampAttribute<TestRestrictedEntity> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TEST_RESTRICTED_ENTITY.OUT_DT **/
+	public static TimestampAttribute<TestRestrictedEntity> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to TEST_RESTRICTED_ENTITY.FROM_DT **/
+	public static TimestampAttribute<TestRestrictedEntity> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TEST_RESTRICTED_ENTITY.THRU_DT **/
+	public static TimestampAttribute<TestRestrictedEntity> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<TestRestrictedEntity> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TestRestrictedEntity> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static TestRestrictedItemFinder.TestRestrictedItemSingleFinderForRelatedClasses<TestRestrictedEntity, TestRestrictedItem, TestRestrictedEntity> restrictedItem()
+	{
+		return finder.restrictedItem();
+	}
+
+	public static class TestRestrictedEntityRestrictedItemFinderSubclass<ParentOwnerType> extends TestRestrictedItemFinder.TestRestrictedItemSingleFinderForRelatedClasses<ParentOwnerType, TestRestrictedItem, TestRestrictedEntity>
+	{
+		public TestRestrictedEntityRestrictedItemFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "restrictedItem";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestRestrictedItemFinder.restrictedItemId(),
+				TestRestrictedItemFinder.businessDate(),
+				TestRestrictedItemFinder.processingDate()).withExtractors(
+				TestRestrictedEntityFinder.restrictedItemId(),
+				TestRestrictedEntityFinder.businessDate(),
+				TestRestrictedEntityFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestRestrictedEntityRestrictedItemFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((TestRestrictedEntity) _obj).isRestrictedItemModifiedSinceDetachment();
+		}
+
+		protected TestRestrictedItem plainValueOf(TestRestrictedEntity _obj)
+		{
+			return _obj.getRestrictedItem();
+		}
+
+		protected TestRestrictedItemList plainListValueOf(Object _obj)
+		{
+			return ((TestRestrictedEntityList)_obj).getRestrictedItems();
+		}
+	}
+
+	public static TestControlledEntryFinder.TestControlledEntrySingleFinderForRelatedClasses<TestRestrictedEntity, TestControlledEntry, TestRestrictedEntity> controlledEntry()
+	{
+		return finder.controlledEntry();
+	}
+
+	public static class TestRestrictedEntityControlledEntryFinderSubclass<ParentOwnerType> extends TestControlledEntryFinder.TestControlledEntrySingleFinderForRelatedClasses<ParentOwnerType, TestControlledEntry, TestRestrictedEntity>
+	{
+		public TestRestrictedEntityControlledEntryFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "controlledEntry";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestControlledEntryFinder.controlledEntryId(),
+				TestControlledEntryFinder.businessDate(),
+				TestControlledEntryFinder.processingDate()).withExtractors(
+				TestRestrictedEntityFinder.controlledEntryId(),
+				TestRestrictedEntityFinder.businessDate(),
+				TestRestrictedEntityFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestRestrictedEntityControlledEntryFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestControlledEntry plainValueOf(TestRestrictedEntity _obj)
+		{
+			return _obj.getControlledEntry();
+		}
+
+		protected TestControlledEntryList plainListValueOf(Object _obj)
+		{
+			return ((TestRestrictedEntityList)_obj).getControlledEntries();
+		}
+	}
+
+	public static Operation eq(TestRestrictedEntity other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(restrictedItemId());
+	}
+
+	public static TestRestrictedEntitySingleFinder<TestRestrictedEntity, Object, TestRestrictedEntity> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedItemId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedItemId()
+			, restrictedItemId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			controlledEntryId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestRestrictedEntity");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,765 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestRestrictedItemCommentAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		TestRestrictedItemCommentFinder.businessDate()
+	,
+		TestRestrictedItemCommentFinder.processingDate()
+	, TestRestrictedItemCommentFinder.zGetDoubleAttributes(),TestRestrictedItemCommentFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestRestrictedItemComment.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestRestrictedItemCommentAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestRestrictedItemCommentFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestRestrictedItemCommentFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestRestrictedItemCommentAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public TestRestrictedItemCommentData zSynchronizedGetData()
+	{
+		return (TestRestrictedItemCommentData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestRestrictedItemCommentFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TestRestrictedItemCommentFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertUntil(this, exclusiveUntil);
+	}
+
+	public void insertForRecovery() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertForRecovery(this);
+	}
+
+	public void insertWithIncrement() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrement(this);
+	}
+
+	public void insertWithIncrementUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrementUntil(this, exclusiveUntil);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestRestrictedItemComment zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		TestRestrictedItemComment original = (TestRestrictedItemComment) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TestRestrictedItemComment copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestRestrictedItemComment) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestRestrictedItemComment copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestRestrictedItemComment) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			TestRestrictedItemCommentFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TestRestrictedItemComment getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestRestrictedItemCommentAbstract result = (TestRestrictedItemCommentAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestRestrictedItemComment ) result;
+	}
+
+	public TestRestrictedItemComment zFindOriginal()
+	{
+		TestRestrictedItemCommentData data = (TestRestrictedItemCommentData) this.currentData;
+		Operation op;
+		op = TestRestrictedItemCommentFinder.restrictedCommentId().eq(data.getRestrictedCommentId());
+		op = op.and(TestRestrictedItemCommentFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TestRestrictedItemCommentFinder.processingDate().eq(this.getProcessingDate()));
+		return TestRestrictedItemCommentFinder.findOne(op);
+	}
+
+	public TestRestrictedItemComment getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestRestrictedItemCommentAbstract result = (TestRestrictedItemCommentAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestRestrictedItemComment ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestRestrictedItemComment copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestRestrictedItemComment) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestRestrictedItemComment copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestRestrictedItemComment) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestRestrictedItemCommentData data = (TestRestrictedItemCommentData) this.currentData;
+			Operation op = TestRestrictedItemCommentFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestRestrictedItemCommentFinder.processingDate().eq(this.processingDate));
+			op = op.and(TestRestrictedItemCommentFinder.restrictedCommentId().eq(data.getRestrictedCommentId()));
+			return TestRestrictedItemCommentFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestRestrictedItemCommentData data = (TestRestrictedItemCommentData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestRestrictedItemCommentFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestRestrictedItemCommentData data = (TestRestrictedItemCommentData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isCommentNull()
+	{
+		return this.zSynchronizedGetData().isCommentNull();
+	}
+
+	public boolean isCommentTypeNull()
+	{
+		return this.zSynchronizedGetData().isCommentTypeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isRestrictedCommentIdNull()
+	{
+		return this.zSynchronizedGetData().isRestrictedCommentIdNull();
+	}
+
+	public boolean isRestrictedItemIdNull()
+	{
+		return this.zSynchronizedGetData().isRestrictedItemIdNull();
+	}
+
+	public boolean isUpdateByNull()
+	{
+		return this.zSynchronizedGetData().isUpdateByNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemCommentFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemCommentFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getComment()
+	{
+		return this.zSynchronizedGetData().getComment();
+	}
+
+	public void setComment(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4000)
+		{
+			throw new MithraBusinessException("Attribute 'comment' cannot exceed maximum length of 4000: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemCommentFinder.comment(), newValue, false );
+	}
+
+	public void setCommentUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4000)
+		{
+			throw new MithraBusinessException("Attribute 'comment' cannot exceed maximum length of 4000: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemCommentFinder.comment(), newValue, false , exclusiveUntil);
+	}
+
+	public String getCommentType()
+	{
+		return this.zSynchronizedGetData().getCommentType();
+	}
+
+	public void setCommentType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'commentType' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemCommentFinder.commentType(), newValue, false );
+	}
+
+	public void setCommentTypeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'commentType' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemCommentFinder.commentType(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemCommentFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemCommentFinder.processingDateTo(), newValue, false );
+	}
+
+	public long getRestrictedCommentId()
+	{
+		return this.zSynchronizedGetData().getRestrictedCommentId();
+	}
+
+	public void setRestrictedCommentId(long newValue)
+	{
+		zSetLong(TestRestrictedItemCommentFinder.restrictedCommentId(), newValue, true ,false);
+	}
+
+	public void setRestrictedCommentIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(TestRestrictedItemCommentFinder.restrictedCommentId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public long getRestrictedItemId()
+	{
+		TestRestrictedItemCommentData data = this.zSynchronizedGetData();
+		if (data.isRestrictedItemIdNull()) MithraNullPrimitiveException.throwNew("restrictedItemId", data);
+		return data.getRestrictedItemId();
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		zSetLong(TestRestrictedItemCommentFinder.restrictedItemId(), newValue, false ,true);
+	}
+
+	public void setRestrictedItemIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(TestRestrictedItemCommentFinder.restrictedItemId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getUpdateBy()
+	{
+		return this.zSynchronizedGetData().getUpdateBy();
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemCommentFinder.updateBy(), newValue, false );
+	}
+
+	public void setUpdateByUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemCommentFinder.updateBy(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestRestrictedItemCommentFinder.restrictedItemId(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestRestrictedItemCommentData data2 = (TestRestrictedItemCommentData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestRestrictedItemCommentFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setRestrictedItemIdNull()
+	{
+		zNullify(TestRestrictedItemCommentFinder.restrictedItemId(), false);
+	}
+
+	public void setRestrictedItemIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestRestrictedItemCommentFinder.restrictedItemId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestRestrictedItemCommentData _newData = (TestRestrictedItemCommentData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestRestrictedItemCommentData _newData = (TestRestrictedItemCommentData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestRestrictedItemCommentData _newData = (TestRestrictedItemCommentData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TestRestrictedItemCommentFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestRestrictedItemCommentData.TestRestrictedItemCommentDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestRestrictedItemCommentData data = (TestRestrictedItemCommentData) TestRestrictedItemCommentFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestRestrictedItemComment has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestRestrictedItemCommentData( TestRestrictedItemCommentData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestRestrictedItemCommentData( TestRestrictedItemCommentData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestRestrictedItemCommentFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestRestrictedItemCommentFinder.getMithraObjectPortal();
+	}
+
+	public TestRestrictedItemComment getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestRestrictedItemCommentAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestRestrictedItemCommentAbstract from = (TestRestrictedItemCommentAbstract) f;
+		TestRestrictedItemCommentData newData = from.zSynchronizedGetData();
+		this.setComment(newData.getComment());
+		this.setCommentType(newData.getCommentType());
+		if (from.isRestrictedItemIdNull())
+		{
+			this.setRestrictedItemIdNull();
+		}
+		else
+		{
+			this.setRestrictedItemId(newData.getRestrictedItemId());
+		}
+
+		this.setUpdateBy(newData.getUpdateBy());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestRestrictedItemCommentData _newData = (TestRestrictedItemCommentData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestRestrictedItemCommentData _newData = (TestRestrictedItemCommentData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestRestrictedItemCommentAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestRestrictedItemCommentAbstract from = (TestRestrictedItemCommentAbstract)f;
+		TestRestrictedItemCommentData newData = from.zSynchronizedGetData();
+		this.setCommentUntil(newData.getComment(), exclusiveUntil);
+		this.setCommentTypeUntil(newData.getCommentType(), exclusiveUntil);
+		if (from.isRestrictedItemIdNull())
+		{
+			this.setRestrictedItemIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRestrictedItemIdUntil(newData.getRestrictedItemId(), exclusiveUntil);
+		}
+
+		this.setUpdateByUntil(newData.getUpdateBy(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TestRestrictedItemCommentData newData = (TestRestrictedItemCommentData) d;
+		TestRestrictedItemCommentData data = (TestRestrictedItemCommentData) nd;
+		if (TestRestrictedItemCommentFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemCommentFinder.comment(), false);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemCommentFinder.commentType(), false);
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedItemCommentFinder.restrictedCommentId(), false);
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedItemCommentFinder.restrictedItemId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemCommentFinder.updateBy(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemCommentFinder.comment(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemCommentFinder.commentType(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedItemCommentFinder.restrictedCommentId(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedItemCommentFinder.restrictedItemId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemCommentFinder.updateBy(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestRestrictedItemCommentData data = ((TestRestrictedItemCommentData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestRestrictedItemCommentData data = ((TestRestrictedItemCommentData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestRestrictedItemCommentData data = ((TestRestrictedItemCommentData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public long generateAndSetRestrictedCommentId()
+	{
+		long nextValue =(long) this.generateRestrictedCommentId();
+		this.setRestrictedCommentId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsRestrictedCommentIdSet()
+	{
+		TestRestrictedItemCommentData data = this.zSynchronizedGetData();
+		return data.zGetIsRestrictedCommentIdSet();
+	}
+
+	protected long generateRestrictedCommentId()
+	{
+		Object sourceAttribute = null;
+		TestRestrictedItemCommentFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("RESTRICTED_ITEM_COMMENT_SEQ", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		TestRestrictedItemCommentData data = (TestRestrictedItemCommentData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsRestrictedCommentIdSet())
+		{
+			long newValue = this.generateRestrictedCommentId();
+			data.setRestrictedCommentId(newValue);
+		}
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestRestrictedItemCommentFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestRestrictedItemCommentFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestRestrictedItemCommentData localData = (TestRestrictedItemCommentData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1196 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestRestrictedItemCommentData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 68;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isCommentNull();
+	String getComment();
+	void setComment(String value);
+	void setCommentNull();
+	int zGetCommentAsInt();
+	boolean isCommentTypeNull();
+	String getCommentType();
+	void setCommentType(String value);
+	void setCommentTypeNull();
+	int zGetCommentTypeAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isRestrictedCommentIdNull();
+	long getRestrictedCommentId();
+	void setRestrictedCommentId(long value);
+	void setRestrictedCommentIdNull();
+	boolean isRestrictedItemIdNull();
+	long getRestrictedItemId();
+	void setRestrictedItemId(long value);
+	void setRestrictedItemIdNull();
+	boolean isUpdateByNull();
+	String getUpdateBy();
+	void setUpdateBy(String value);
+	void setUpdateByNull();
+	int zGetUpdateByAsInt();
+	boolean zGetIsRestrictedCommentIdSet();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TestRestrictedItemCommentDataOnHeap implements TestRestrictedItemCommentData
+	{
+		private byte _dataVersion;
+		private byte isNullBits0 = 0;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private String comment;
+		private String commentType;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private long restrictedCommentId;
+		private long restrictedItemId;
+		private String updateBy;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isCommentNull()
+		{
+			return this.getComment() == null;
+		}
+
+		public boolean isCommentTypeNull()
+		{
+			return this.getCommentType() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isRestrictedCommentIdNull()
+		{
+			return false;
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return this.getUpdateBy() == null;
+		}
+
+		public boolean isRestrictedItemIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.businessDateTo, TestRestrictedItemCommentFinder.businessDate().getInfinityDate());
+			out.writeObject(this.comment);
+			out.writeObject(this.commentType);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, TestRestrictedItemCommentFinder.processingDate().getInfinityDate());
+			out.writeLong(this.restrictedCommentId);
+			out.writeBoolean(_isRestrictedCommentIdSet);
+			out.writeLong(this.restrictedItemId);
+			out.writeObject(this.updateBy);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getComment()
+		{
+			return this.comment;
+		}
+
+		public int zGetCommentAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(comment);
+		}
+
+		public void setComment(String value)
+		{
+			this.comment = StringPool.getInstance().getOrAddToCache(value, TestRestrictedItemCommentFinder.isFullCache());
+		}
+
+		public void setCommentNull()
+		{
+			this.setComment(null);
+		}
+
+		public String getCommentType()
+		{
+			return this.commentType;
+		}
+
+		public int zGetCommentTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(commentType);
+		}
+
+		public void setCommentType(String value)
+		{
+			this.commentType = StringPool.getInstance().getOrAddToCache(value, TestRestrictedItemCommentFinder.isFullCache());
+		}
+
+		public void setCommentTypeNull()
+		{
+			this.setCommentType(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedCommentId()
+		{
+			return this.restrictedCommentId;
+		}
+
+		public void setRestrictedCommentId(long value)
+		{
+			this.restrictedCommentId = value;
+			_isRestrictedCommentIdSet = true;
+		}
+
+		public void setRestrictedCommentIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedItemId()
+		{
+			return this.restrictedItemId;
+		}
+
+		public void setRestrictedItemId(long value)
+		{
+			this.restrictedItemId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public String getUpdateBy()
+		{
+			return this.updateBy;
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(updateBy);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			this.updateBy = StringPool.getInstance().getOrAddToCache(value, TestRestrictedItemCommentFinder.isFullCache());
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public void setRestrictedItemIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public boolean _isRestrictedCommentIdSet;
+		public boolean zGetIsRestrictedCommentIdSet()
+		{
+			return _isRestrictedCommentIdSet;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestRestrictedItemCommentDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.comment = this.comment;
+			copy.commentType = this.commentType;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.restrictedCommentId = this.restrictedCommentId;
+			copy.restrictedItemId = this.restrictedItemId;
+			copy.updateBy = this.updateBy;
+			copy._isRestrictedCommentIdSet = this._isRestrictedCommentIdSet;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestRestrictedItemCommentFinder.businessDate().getInfinityDate()), TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+			this.comment = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestRestrictedItemCommentFinder.isFullCache());
+			this.commentType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestRestrictedItemCommentFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestRestrictedItemCommentFinder.processingDate().getInfinityDate()), TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+			this.restrictedCommentId = in.readLong();
+			_isRestrictedCommentIdSet = in.readBoolean();
+			this.restrictedItemId = in.readLong();
+			this.updateBy = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestRestrictedItemCommentFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestRestrictedItemCommentData otherData = (TestRestrictedItemCommentData) other;
+			if (getRestrictedCommentId() != otherData.getRestrictedCommentId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.businessDateTo, TestRestrictedItemCommentFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, TestRestrictedItemCommentFinder.processingDate().getInfinityDate());
+			out.writeLong(this.restrictedCommentId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestRestrictedItemCommentFinder.businessDate().getInfinityDate()), TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, TestRestrictedItemCommentFinder.processingDate().getInfinityDate()), TestRestrictedItemCommentFinder.isFullCache(), TestRestrictedItemCommentFinder.isOffHeap());
+			this.restrictedCommentId = in.readLong();
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestRestrictedItemCommentDataOffHeap data = new TestRestrictedItemCommentDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setComment(this.getComment());
+			data.setCommentType(this.getCommentType());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setRestrictedCommentId(this.getRestrictedCommentId());
+			data.setRestrictedItemId(this.getRestrictedItemId());
+			if (this.isRestrictedItemIdNull()) data.setRestrictedItemIdNull();
+			data.setUpdateBy(this.getUpdateBy());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestRestrictedItemCommentData testRestrictedItemCommentData = (TestRestrictedItemCommentData) newData;
+			this.setBusinessDateFrom(testRestrictedItemCommentData.getBusinessDateFrom());
+			this.setBusinessDateTo(testRestrictedItemCommentData.getBusinessDateTo());
+			this.setComment(testRestrictedItemCommentData.getComment());
+			this.setCommentType(testRestrictedItemCommentData.getCommentType());
+			this.setProcessingDateFrom(testRestrictedItemCommentData.getProcessingDateFrom());
+			this.setProcessingDateTo(testRestrictedItemCommentData.getProcessingDateTo());
+			this.setRestrictedItemId(testRestrictedItemCommentData.getRestrictedItemId());
+			if (testRestrictedItemCommentData.isRestrictedItemIdNull()) this.setRestrictedItemIdNull();
+			this.setUpdateBy(testRestrictedItemCommentData.getUpdateBy());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestRestrictedItemCommentData other = (TestRestrictedItemCommentData) newData;
+			if (!isCommentNull() ? !getComment().equals(other.getComment()) : !other.isCommentNull())
+			{
+				return true;
+			}
+
+			if (!isCommentTypeNull() ? !getCommentType().equals(other.getCommentType()) : !other.isCommentTypeNull())
+			{
+				return true;
+			}
+
+			if ( isRestrictedItemIdNull() != other.isRestrictedItemIdNull() || getRestrictedItemId() != other.getRestrictedItemId())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestRestrictedItemCommentDataOnHeap copy = new TestRestrictedItemCommentDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestRestrictedItemCommentDataOnHeap copy = new TestRestrictedItemCommentDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "restrictedCommentId: "+(""+getRestrictedCommentId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestRestrictedItemCommentData otherData = (TestRestrictedItemCommentData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestRestrictedItemCommentData otherData = (TestRestrictedItemCommentData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedItemCommentData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestRestrictedItemCommentFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestRestrictedItemCommentFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedItemCommentData";
+		}
+	}
+
+	public class TestRestrictedItemCommentDataOffHeap extends MithraOffHeapDataObject implements TestRestrictedItemCommentData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestRestrictedItemCommentDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 40);
+			this.zSetTimestamp(_storage, value, 48);
+		}
+
+		public TestRestrictedItemCommentDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isCommentNull()
+		{
+			return zIsStringNull(_storage, 32);
+		}
+
+		public boolean isCommentTypeNull()
+		{
+			return zIsStringNull(_storage, 36);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 48);
+		}
+
+		public boolean isRestrictedCommentIdNull()
+		{
+			return false;
+		}
+
+		public boolean isRestrictedItemIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return zIsStringNull(_storage, 64);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestRestrictedItemCommentFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getComment());
+			out.writeObject(this.getCommentType());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestRestrictedItemCommentFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getRestrictedCommentId());
+			out.writeBoolean(true);
+			out.writeLong(this.getRestrictedItemId());
+			out.writeObject(this.getUpdateBy());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isRestrictedItemIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getComment()
+		{
+			return zGetString(_storage, 32);
+		}
+
+		public int zGetCommentAsInt()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setComment(String value)
+		{
+			zSetString(_storage, value, 32);
+		}
+
+		public void setCommentNull()
+		{
+			this.setComment(null);
+		}
+
+		public String getCommentType()
+		{
+			return zGetString(_storage, 36);
+		}
+
+		public int zGetCommentTypeAsInt()
+		{
+			return zGetInteger(_storage, 36);
+		}
+
+		public void setCommentType(String value)
+		{
+			zSetString(_storage, value, 36);
+		}
+
+		public void setCommentTypeNull()
+		{
+			this.setCommentType(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 48);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 48);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 48);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedCommentId()
+		{
+			return zGetLong(_storage, 8);
+		}
+
+		public void setRestrictedCommentId(long value)
+		{
+			zSetLong(_storage, value, 8, -1, -1);
+		}
+
+		public void setRestrictedCommentIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedItemId()
+		{
+			return zGetLong(_storage, 56);
+		}
+
+		public void setRestrictedItemId(long value)
+		{
+			zSetLong(_storage, value, 56, 4, 0);
+		}
+
+		public String getUpdateBy()
+		{
+			return zGetString(_storage, 64);
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return zGetInteger(_storage, 64);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			zSetString(_storage, value, 64);
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public void setRestrictedItemIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public boolean zGetIsRestrictedCommentIdSet()
+		{
+			return true;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestRestrictedItemCommentDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.comment = this.getComment();
+			copy.commentType = this.getCommentType();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.restrictedCommentId = this.getRestrictedCommentId();
+			copy.restrictedItemId = this.getRestrictedItemId();
+			copy.updateBy = this.getUpdateBy();
+			if (isRestrictedItemIdNull())
+			{
+				copy.setRestrictedItemIdNull();
+			}
+
+			copy._isRestrictedCommentIdSet = true;
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetString(_storage, (String)in.readObject(), 32);
+			zSetString(_storage, (String)in.readObject(), 36);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetLong(_storage, in.readLong(), 8, -1, -1, false);
+			in.readBoolean();
+			zSetLong(_storage, in.readLong(), 56, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 64);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestRestrictedItemCommentDataOffHeap)
+			{
+				final TestRestrictedItemCommentDataOffHeap otherData = (TestRestrictedItemCommentDataOffHeap) other;
+				if (this.zGetLong(_storage, 8) != otherData.zGetLong(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestRestrictedItemCommentData otherData = (TestRestrictedItemCommentData) other;
+			if (getRestrictedCommentId() != otherData.getRestrictedCommentId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestRestrictedItemCommentFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestRestrictedItemCommentFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getRestrictedCommentId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetLong(_storage, in.readLong(), 8, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestRestrictedItemCommentData testRestrictedItemCommentData = (TestRestrictedItemCommentData) newData;
+			this.setBusinessDateFrom(testRestrictedItemCommentData.getBusinessDateFrom());
+			this.setBusinessDateTo(testRestrictedItemCommentData.getBusinessDateTo());
+			this.setComment(testRestrictedItemCommentData.getComment());
+			this.setCommentType(testRestrictedItemCommentData.getCommentType());
+			this.setProcessingDateFrom(testRestrictedItemCommentData.getProcessingDateFrom());
+			this.setProcessingDateTo(testRestrictedItemCommentData.getProcessingDateTo());
+			this.setRestrictedItemId(testRestrictedItemCommentData.getRestrictedItemId());
+			if (testRestrictedItemCommentData.isRestrictedItemIdNull()) this.setRestrictedItemIdNull();
+			this.setUpdateBy(testRestrictedItemCommentData.getUpdateBy());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestRestrictedItemCommentData other = (TestRestrictedItemCommentData) newData;
+			if (!isCommentNull() ? !getComment().equals(other.getComment()) : !other.isCommentNull())
+			{
+				return true;
+			}
+
+			if (!isCommentTypeNull() ? !getCommentType().equals(other.getCommentType()) : !other.isCommentTypeNull())
+			{
+				return true;
+			}
+
+			if ( isRestrictedItemIdNull() != other.isRestrictedItemIdNull() || getRestrictedItemId() != other.getRestrictedItemId())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestRestrictedItemCommentDataOnHeap copy = new TestRestrictedItemCommentDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestRestrictedItemCommentDataOnHeap copy = new TestRestrictedItemCommentDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "restrictedCommentId: "+(""+getRestrictedCommentId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestRestrictedItemCommentData otherData = (TestRestrictedItemCommentData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestRestrictedItemCommentData otherData = (TestRestrictedItemCommentData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedItemCommentData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestRestrictedItemCommentFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestRestrictedItemCommentFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedItemCommentData";
+		}
+	}
+}
@@ -0,0 +1,827 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestRestrictedItemCommentFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestRestrictedItemComment";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestRestrictedItemComment";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestRestrictedItemComment");
+	private static final TestRestrictedItemCommentSingleFinder<TestRestrictedItemComment, Object, TestRestrictedItemComment> finder = new TestRestrictedItemCommentSingleFinder<TestRestrictedItemComment, Object, TestRestrictedItemComment>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestRestrictedItemCommentFinder.TestRestrictedItemCommentRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("restrictedCommentId");
+		finderMethodMap.addNormalAttributeName("restrictedItemId");
+		finderMethodMap.addNormalAttributeName("commentType");
+		finderMethodMap.addNormalAttributeName("comment");
+		finderMethodMap.addNormalAttributeName("updateBy");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestRestrictedItemComment findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestRestrictedItemComment findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestRestrictedItemCommentList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestRestrictedItemCommentList) finder.findMany(operation);
+	}
+
+	public static TestRestrictedItemCommentList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestRestrictedItemCommentList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestRestrictedItemComment findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestRestrictedItemComment) FinderUtils.findOne(found);
+	}
+
+	public static TestRestrictedItemComment findByPrimaryKey(long restrictedCommentId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(restrictedCommentId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestRestrictedItemCommentData _castedTargetData = (TestRestrictedItemCommentData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getRestrictedCommentId())
+			{
+				return TestRestrictedItemCommentFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TestRestrictedItemCommentFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static TestRestrictedItemComment zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestRestrictedItemComment) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestRestrictedItemCommentRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestRestrictedItemComment, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> restrictedCommentId;
+		private LongAttribute<ParentOwnerType> restrictedItemId;
+		private StringAttribute<ParentOwnerType> commentType;
+		private StringAttribute<ParentOwnerType> comment;
+		private StringAttribute<ParentOwnerType> updateBy;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestRestrictedItemCommentRelatedFinder()
+		{
+			super();
+		}
+
+		public TestRestrictedItemCommentRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedItemCommentFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestRestrictedItemCommentFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestRestrictedItemCommentFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestRestrictedItemCommentFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[9];
+			attributes[0] = this.restrictedCommentId();
+			attributes[1] = this.restrictedItemId();
+			attributes[2] = this.commentType();
+			attributes[3] = this.comment();
+			attributes[4] = this.updateBy();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			attributes[7] = this.businessDateFrom();
+			attributes[8] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestRestrictedItemComment findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestRestrictedItemCommentFinder.findOne(operation, false);
+		}
+
+		public TestRestrictedItemComment findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestRestrictedItemCommentFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestRestrictedItemComment> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestRestrictedItemCommentList((Operation) operation);
+		}
+
+		public MithraList<? extends TestRestrictedItemComment> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestRestrictedItemCommentList result = (TestRestrictedItemCommentList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestRestrictedItemComment> constructEmptyList()
+		{
+			return new TestRestrictedItemCommentList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1385542134;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> restrictedCommentId()
+		{
+			LongAttribute<ParentOwnerType> result = this.restrictedCommentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("ITEM_COMMENT_ID","","restrictedCommentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,true, false) :
+					new MappedLongAttribute(TestRestrictedItemCommentFinder.restrictedCommentId(), this.mapper, this.zGetValueSelector());
+				this.restrictedCommentId = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> restrictedItemId()
+		{
+			LongAttribute<ParentOwnerType> result = this.restrictedItemId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("RESTRICTED_ITEM_ID","","restrictedItemId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,56,4,0,false, false) :
+					new MappedLongAttribute(TestRestrictedItemCommentFinder.restrictedItemId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "TestRestrictedItem", "comments");
+				this.restrictedItemId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> commentType()
+		{
+			StringAttribute<ParentOwnerType> result = this.commentType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("COMMENT_TYPE","","commentType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,36,-1,-1,20,true, false) :
+					new MappedStringAttribute(TestRestrictedItemCommentFinder.commentType(), this.mapper, this.zGetValueSelector());
+				this.commentType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> comment()
+		{
+			StringAttribute<ParentOwnerType> result = this.comment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"COMMENT\"","","comment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,32,-1,-1,4000,true, false) :
+					new MappedStringAttribute(TestRestrictedItemCommentFinder.comment(), this.mapper, this.zGetValueSelector());
+				this.comment = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> updateBy()
+		{
+			StringAttribute<ParentOwnerType> result = this.updateBy;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("UPDATE_BY","","updateBy",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,64,-1,-1,30,true, false) :
+					new MappedStringAttribute(TestRestrictedItemCommentFinder.updateBy(), this.mapper, this.zGetValueSelector());
+				this.updateBy = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_DT","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,TestRestrictedItemCommentFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedItemCommentFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_DT","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,TestRestrictedItemCommentFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedItemCommentFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_DT","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,TestRestrictedItemCommentFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedItemCommentFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_DT","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,TestRestrictedItemCommentFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedItemCommentFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestRestrictedItemCommentFinder.businessDateInfinity,false,false,TestRestrictedItemCommentFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestRestrictedItemCommentFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TestRestrictedItemCommentFinder.processingDateInfinity,false,false,TestRestrictedItemCommentFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestRestrictedItemCommentFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestRestrictedItemCommentFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestRestrictedItemCommentFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestRestrictedItemCommentCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestRestrictedItemCommentRelatedFinder<ParentOwnerType, ReturnType, TestRestrictedItemCommentList, OwnerType>
+	{
+		public TestRestrictedItemCommentCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestRestrictedItemCommentCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestRestrictedItemCommentCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestRestrictedItemCommentCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestRestrictedItemCommentSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestRestrictedItemCommentRelatedFinder<ParentOwnerType, ReturnType, TestRestrictedItemCommentList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestRestrictedItemCommentSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestRestrictedItemCommentSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestRestrictedItemComment other)
+		{
+			return this.restrictedCommentId().eq(other.getRestrictedCommentId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestRestrictedItemComment findByPrimaryKey(long restrictedCommentId, Timestamp businessDate, Timestamp processingDate)
+		{
+			TestRestrictedItemComment _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(restrictedCommentId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestRestrictedItemComment) _related;
+			if (_related == null)
+			{
+				_op = this.restrictedCommentId().eq(restrictedCommentId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestRestrictedItemCommentSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestRestrictedItemCommentSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestRestrictedItemCommentSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM_COMMENT.ITEM_COMMENT_ID **/
+	public static LongAttribute<TestRestrictedItemComment> restrictedCommentId()
+	{
+		return finder.restrictedCommentId();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM_COMMENT.RESTRICTED_ITEM_ID **/
+	public static LongAttribute<TestRestrictedItemComment> restrictedItemId()
+	{
+		return finder.restrictedItemId();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM_COMMENT.COMMENT_TYPE **/
+	public static StringAttribute<TestRestrictedItemComment> commentType()
+	{
+		return finder.commentType();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM_COMMENT."COMMENT" **/
+	public static StringAttribute<TestRestrictedItemComment> comment()
+	{
+		return finder.comment();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM_COMMENT.UPDATE_BY **/
+	public static StringAttribute<TestRestrictedItemComment> updateBy()
+	{
+		return finder.updateBy();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM_COMMENT.IN_DT **/
+	public static TimestampAttribute<TestRestrictedItemComment> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM_COMMENT.OUT_DT **/
+	public static TimestampAttribute<TestRestrictedItemComment> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM_COMMENT.FROM_DT **/
+	public static TimestampAttribute<TestRestrictedItemComment> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM_COMMENT.THRU_DT **/
+	public static TimestampAttribute<TestRestrictedItemComment> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<TestRestrictedItemComment> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TestRestrictedItemComment> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(TestRestrictedItemComment other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(restrictedCommentId());
+	}
+
+	public static TestRestrictedItemCommentSingleFinder<TestRestrictedItemComment, Object, TestRestrictedItemComment> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedCommentId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedCommentId()
+			, restrictedCommentId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			restrictedItemId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestRestrictedItemComment");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
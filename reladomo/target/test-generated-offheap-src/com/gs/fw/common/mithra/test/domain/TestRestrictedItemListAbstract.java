@@ -0,0 +1,204 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestRestrictedItemListAbstract extends DelegatingList<TestRestrictedItem> implements MithraDatedTransactionalList<TestRestrictedItem>
+{
+	public TestRestrictedItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestRestrictedItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestRestrictedItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestRestrictedItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestRestrictedItem[] elements()
+	{
+		TestRestrictedItem[] result = new TestRestrictedItem[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestRestrictedItemList intersection(TestRestrictedItemList another)
+	{
+		return (TestRestrictedItemList)super.intersection(another);
+	}
+
+	public TestRestrictedItem getTestRestrictedItemAt(int index)
+	{
+		return (TestRestrictedItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestRestrictedItemComment.restrictedItemId=this.restrictedItemId</pre>
+	* @return comments
+	*/
+	public TestRestrictedItemCommentList getComments()
+	{
+		return (TestRestrictedItemCommentList) this.zGetDelegated().resolveRelationship(this, TestRestrictedItemFinder.comments());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.restrictedItemId = TestRestrictedEntity.restrictedItemId</pre>
+	* @see TestRestrictedEntity#getRestrictedItem() reverse relationship TestRestrictedEntity.getRestrictedItem()
+	* @return The restricted entity
+	*/
+	public TestRestrictedEntityList getRestrictedEntities()
+	{
+		return (TestRestrictedEntityList) this.zGetDelegated().resolveRelationship(this, TestRestrictedItemFinder.restrictedEntity());
+	}
+
+	public void zSetParentContainerrestrictedEntity(TestRestrictedEntityAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			TestRestrictedItem item = this.getTestRestrictedItemAt(i);
+			item.zSetParentContainerrestrictedEntity(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestRestrictedItemFinder.getMithraObjectPortal();
+	}
+
+	public TestRestrictedItemList getNonPersistentCopy()
+	{
+		TestRestrictedItemList result = new TestRestrictedItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestRestrictedItemList asAdhoc()
+	{
+		return (TestRestrictedItemList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestRestrictedItem> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestRestrictedItemList merge(MithraTransactionalList<TestRestrictedItem> incoming, TopLevelMergeOptions<TestRestrictedItem> mergeOptions)
+	{
+		return (TestRestrictedItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestRestrictedItemList getDetachedCopy()
+	{
+		TestRestrictedItemList result = new TestRestrictedItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		zSetLong(TestRestrictedItemFinder.restrictedItemId(), newValue);
+	}
+
+	public void setItemType(String newValue)
+	{
+		zSetString(TestRestrictedItemFinder.itemType(), newValue);
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		zSetString(TestRestrictedItemFinder.updateBy(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemFinder.businessDateTo(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
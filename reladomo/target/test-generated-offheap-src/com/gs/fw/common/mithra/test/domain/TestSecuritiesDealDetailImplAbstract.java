@@ -0,0 +1,870 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestSecuritiesDealDetailImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestSecuritiesDealDetailImpl.class.getName());
+	private static final RelationshipHashStrategy forinvestmentFinancingDealDetail = new InvestmentFinancingDealDetailRhs();
+	private static final RelationshipHashStrategy forconflictCheck = new ConflictCheckRhs();
+	private static final class InvestmentFinancingDealDetailRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestSecuritiesDealDetailImplData _castedSrcData = (TestSecuritiesDealDetailImplData) _srcData;
+			TestInvestmentFinancingDealDetailData _castedTargetData = (TestInvestmentFinancingDealDetailData) _targetData;
+			if (_castedSrcData.getCheckId() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestSecuritiesDealDetailImplData _castedSrcData = (TestSecuritiesDealDetailImplData) _srcData;
+			return HashUtil.hash(_castedSrcData.getCheckId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ConflictCheckRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestSecuritiesDealDetailImplData _castedSrcData = (TestSecuritiesDealDetailImplData) _srcData;
+			TestConflictCheckImplData _castedTargetData = (TestConflictCheckImplData) _targetData;
+			if (_castedSrcData.getCheckId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestSecuritiesDealDetailImplData _castedSrcData = (TestSecuritiesDealDetailImplData) _srcData;
+			return HashUtil.hash(_castedSrcData.getCheckId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public TestSecuritiesDealDetailImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestSecuritiesDealDetailImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestSecuritiesDealDetailImpl) super.getDetachedCopy();
+	}
+
+	public TestSecuritiesDealDetailImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestSecuritiesDealDetailImpl result = (TestSecuritiesDealDetailImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestSecuritiesDealDetailImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestSecuritiesDealDetailImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestSecuritiesDealDetailImpl zFindOriginal()
+	{
+		TestSecuritiesDealDetailImplData data = (TestSecuritiesDealDetailImplData) this.currentData;
+		Operation op;
+		op = TestSecuritiesDealDetailImplFinder.checkId().eq(data.getCheckId());
+		return TestSecuritiesDealDetailImplFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isInvestmentFinancingDealDetailModifiedSinceDetachment()) return true;
+		if(isCheckDesksModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestSecuritiesDealDetailImplData();
+	}
+
+	protected void zSetFromTestSecuritiesDealDetailImplData( TestSecuritiesDealDetailImplData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestSecuritiesDealDetailImplData( TestSecuritiesDealDetailImplData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCheckIdNull()
+	{
+		return ((TestSecuritiesDealDetailImplData) this.zSynchronizedGetData()).isCheckIdNull();
+	}
+
+	public int getCheckId()
+	{
+		TestSecuritiesDealDetailImplData data = (TestSecuritiesDealDetailImplData) this.zSynchronizedGetData();
+		return data.getCheckId();
+	}
+
+	public void setCheckId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(TestSecuritiesDealDetailImplFinder.checkId(), newValue, true, false ,false);
+		if (d == null) return;
+		TestSecuritiesDealDetailImplData data = (TestSecuritiesDealDetailImplData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			TestInvestmentFinancingDealDetail investmentFinancingDealDetail =
+			(TestInvestmentFinancingDealDetail ) data.getInvestmentFinancingDealDetail();
+			if (investmentFinancingDealDetail != null)
+			{
+				investmentFinancingDealDetail.setCheckId(newValue);
+			}
+
+			TestCheckGsDeskList checkDesks =
+			(TestCheckGsDeskList ) data.getCheckDesks();
+			if (checkDesks != null)
+			{
+				checkDesks.setCheckId(newValue);
+			}
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestSecuritiesDealDetailImplData _newData = (TestSecuritiesDealDetailImplData) _data;
+		if (_newData.getInvestmentFinancingDealDetail() instanceof NulledRelation)
+		{
+			TestInvestmentFinancingDealDetail investmentFinancingDealDetail =
+			this.getInvestmentFinancingDealDetail();
+			if (investmentFinancingDealDetail != null)
+			{
+				investmentFinancingDealDetail.cascadeDelete();
+			}
+		}
+		else
+		{
+			TestInvestmentFinancingDealDetail investmentFinancingDealDetail =
+			(TestInvestmentFinancingDealDetail) _newData.getInvestmentFinancingDealDetail();
+			if (investmentFinancingDealDetail != null)
+			{
+				TestInvestmentFinancingDealDetail _existing =
+				this.getInvestmentFinancingDealDetail();
+				if (_existing == null)
+				{
+					investmentFinancingDealDetail.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(investmentFinancingDealDetail.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(investmentFinancingDealDetail.zGetTxDataForRead());
+				}
+			}
+		}
+
+		{
+			TestCheckGsDeskList checkDesks =
+			(TestCheckGsDeskList) _newData.getCheckDesks();
+			if (checkDesks != null)
+			{
+				checkDesks.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestSecuritiesDealDetailImplData _newData = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getInvestmentFinancingDealDetail() != null && !(_newData.getInvestmentFinancingDealDetail() instanceof NulledRelation))
+		{
+			((TestInvestmentFinancingDealDetail)_newData.getInvestmentFinancingDealDetail()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getCheckDesks() != null && !(_newData.getCheckDesks() instanceof NulledRelation))
+		{
+			((TestCheckGsDeskList)_newData.getCheckDesks()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _newData = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getInvestmentFinancingDealDetail() != null && !(_newData.getInvestmentFinancingDealDetail() instanceof NulledRelation))
+		{
+			((TestInvestmentFinancingDealDetail)_newData.getInvestmentFinancingDealDetail()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getCheckDesks() != null && !(_newData.getCheckDesks() instanceof NulledRelation))
+		{
+			((TestCheckGsDeskList)_newData.getCheckDesks()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestInvestmentFinancingDealDetail.checkId</pre>
+	* @see TestInvestmentFinancingDealDetail#getSecuritiesDealDetail() reverse relationship TestInvestmentFinancingDealDetail.getSecuritiesDealDetail()
+	* @return The investment financing deal detail
+	*/
+	public TestInvestmentFinancingDealDetail getInvestmentFinancingDealDetail()
+	{
+		TestInvestmentFinancingDealDetail _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestInvestmentFinancingDealDetailFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forinvestmentFinancingDealDetail, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestInvestmentFinancingDealDetail) _related;
+				if (_related == null)
+				{
+					_op = TestInvestmentFinancingDealDetailFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getInvestmentFinancingDealDetail() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestInvestmentFinancingDealDetail) _data.getInvestmentFinancingDealDetail();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestInvestmentFinancingDealDetailFinder.checkId().eq(_data.getCheckId());
+					_result = TestInvestmentFinancingDealDetailFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setInvestmentFinancingDealDetail(_result);
+				if (_result != null) _result.zSetParentContainersecuritiesDealDetail(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestInvestmentFinancingDealDetail) _data.getInvestmentFinancingDealDetail();
+		}
+
+		if (_op != null)
+		{
+			_result = TestInvestmentFinancingDealDetailFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setInvestmentFinancingDealDetail(TestInvestmentFinancingDealDetail investmentFinancingDealDetail)
+	{
+		TestInvestmentFinancingDealDetail _investmentFinancingDealDetail = (TestInvestmentFinancingDealDetail) investmentFinancingDealDetail;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getInvestmentFinancingDealDetail();
+			_data.setInvestmentFinancingDealDetail(_investmentFinancingDealDetail);
+			if (_investmentFinancingDealDetail != null)
+			{
+				_investmentFinancingDealDetail.setCheckId(_data.getCheckId());
+				_investmentFinancingDealDetail.zSetParentContainersecuritiesDealDetail(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setInvestmentFinancingDealDetail(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			TestInvestmentFinancingDealDetail _existing = this.getInvestmentFinancingDealDetail();
+			if (_investmentFinancingDealDetail != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_investmentFinancingDealDetail != null)
+				{
+					_investmentFinancingDealDetail.setCheckId(_data.getCheckId());
+					_investmentFinancingDealDetail.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isInvestmentFinancingDealDetailModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_data.getInvestmentFinancingDealDetail() instanceof NulledRelation)
+		{
+			TestInvestmentFinancingDealDetail _existing = this.getOriginalPersistentObject().getInvestmentFinancingDealDetail();
+			return _existing != null;
+		}
+
+		TestInvestmentFinancingDealDetail investmentFinancingDealDetail =
+		(TestInvestmentFinancingDealDetail) _data.getInvestmentFinancingDealDetail();
+		if( investmentFinancingDealDetail != null)
+		{
+			return investmentFinancingDealDetail.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestCheckGsDesk.checkId</pre>
+	* @return check desks
+	*/
+	public TestCheckGsDeskList getCheckDesks()
+	{
+		TestCheckGsDeskList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = TestCheckGsDeskFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (TestCheckGsDeskList) _data.getCheckDesks();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestCheckGsDeskFinder.checkId().eq(_data.getCheckId());
+					_result = new TestCheckGsDeskList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new CheckDesksAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setCheckDesks(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestCheckGsDeskList) _data.getCheckDesks();
+			if (_result == null)
+			{
+				_result = new TestCheckGsDeskList();
+				_result.zSetAddHandler(new CheckDesksAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setCheckDesks(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new TestCheckGsDeskList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new CheckDesksAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setCheckDesks(TestCheckGsDeskList checkDesks)
+	{
+		TestCheckGsDeskList _checkDesks = (TestCheckGsDeskList) checkDesks;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _checkDesks != null)
+			{
+				_checkDesks.zMakeDetached(TestCheckGsDeskFinder.checkId().eq(_data.getCheckId()),
+					_data.getCheckDesks());
+			}
+
+			_data.setCheckDesks(_checkDesks);
+			if (_checkDesks != null)
+			{
+				_checkDesks.setCheckId(_data.getCheckId());
+				_checkDesks.zSetAddHandler(new CheckDesksAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_checkDesks.zSetAddHandler(new CheckDesksAddHandlerPersisted());
+			TestCheckGsDeskList checkDesksToDelete = new TestCheckGsDeskList();
+			checkDesksToDelete.addAll(this.getCheckDesks());
+			for(int i=0;i < _checkDesks.size(); i++)
+			{
+				TestCheckGsDesk item = _checkDesks.getTestCheckGsDeskAt(i);
+				if (!checkDesksToDelete.remove(item))
+				{
+					item.setCheckId(_data.getCheckId());
+					item.cascadeInsert();
+				}
+			}
+
+			checkDesksToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isCheckDesksModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		TestCheckGsDeskList checkDesks =
+		(TestCheckGsDeskList) _data.getCheckDesks();
+		if( checkDesks != null)
+		{
+			return checkDesks.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestCheckGsDesk.checkId and TestCheckGsDesk.gsDeskId = GsDesk.id</pre>
+	* @return associated desks
+	*/
+	public GsDeskList getAssociatedDesks()
+	{
+		GsDeskList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(TestSecuritiesDealDetailImplFinder.zGetAssociatedDesksMapperFragment(), TestCheckGsDeskFinder.checkId().eq(_data.getCheckId()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(TestSecuritiesDealDetailImplFinder.zGetAssociatedDesksMapperFragment(), TestCheckGsDeskFinder.checkId().eq(_data.getCheckId()));
+					_result = new GsDeskList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (GsDeskList) _data.getAssociatedDesks();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(TestSecuritiesDealDetailImplFinder.zGetAssociatedDesksMapperFragment(), TestCheckGsDeskFinder.checkId().eq(_data.getCheckId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new GsDeskList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setAssociatedDesks(GsDeskList associatedDesks)
+	{
+		GsDeskList _associatedDesks = (GsDeskList) associatedDesks;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAssociatedDesks(_associatedDesks);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestConflictCheckImpl.id = this.checkId</pre>
+	* @see TestConflictCheckImpl#getSecuritiesDealDetail() reverse relationship TestConflictCheckImpl.getSecuritiesDealDetail()
+	* @return The conflict check
+	*/
+	public TestConflictCheckImpl getConflictCheck()
+	{
+		TestConflictCheckImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestConflictCheckImplFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forconflictCheck, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestConflictCheckImpl) _related;
+				if (_related == null)
+				{
+					_op = TestConflictCheckImplFinder.id().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getConflictCheck() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestConflictCheckImpl) _data.getConflictCheck();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestConflictCheckImplFinder.id().eq(_data.getCheckId());
+					_result = TestConflictCheckImplFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setConflictCheck(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestConflictCheckImpl) _data.getConflictCheck();
+			if (_result == null)
+			{
+				{
+					_op = TestConflictCheckImplFinder.id().eq(_data.getCheckId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestConflictCheckImplFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setConflictCheck(TestConflictCheckImpl conflictCheck)
+	{
+		((TestConflictCheckImpl)conflictCheck).setSecuritiesDealDetail((TestSecuritiesDealDetailImpl)this);
+	}
+
+	public void zSetParentContainerconflictCheck(TestConflictCheckImplAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setConflictCheck(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		TestInvestmentFinancingDealDetail investmentFinancingDealDetail =
+		(TestInvestmentFinancingDealDetail) _data.getInvestmentFinancingDealDetail();
+		TestCheckGsDeskList checkDesks =
+		(TestCheckGsDeskList) _data.getCheckDesks();
+		_behavior.insert(this);
+		if (investmentFinancingDealDetail != null)
+		{
+			investmentFinancingDealDetail.cascadeInsert();
+		}
+
+		if (checkDesks != null)
+		{
+			checkDesks.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TestSecuritiesDealDetailImplFinder.TestSecuritiesDealDetailImplRelatedFinder parentFinder = (TestSecuritiesDealDetailImplFinder.TestSecuritiesDealDetailImplRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _newData = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getInvestmentFinancingDealDetail() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.investmentFinancingDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			TestInvestmentFinancingDealDetail investmentFinancingDealDetail =
+			(TestInvestmentFinancingDealDetail) _newData.getInvestmentFinancingDealDetail();
+			RelatedFinder dependentFinder = parentFinder.investmentFinancingDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, investmentFinancingDealDetail != null, navigationStats);
+			if (investmentFinancingDealDetail != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(investmentFinancingDealDetail, dependentFinder, navigationStats);
+			}
+		}
+
+		{
+			TestCheckGsDeskList checkDesks =
+			(TestCheckGsDeskList) _newData.getCheckDesks();
+			RelatedFinder dependentFinder = parentFinder.checkDesks();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, checkDesks != null, navigationStats);
+			if (checkDesks != null)
+			{
+				checkDesks.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public TestSecuritiesDealDetailImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSecuritiesDealDetailImplData _data = (TestSecuritiesDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		TestInvestmentFinancingDealDetail investmentFinancingDealDetail =
+		(TestInvestmentFinancingDealDetail) _data.getInvestmentFinancingDealDetail();
+		TestCheckGsDeskList checkDesks =
+		(TestCheckGsDeskList) _data.getCheckDesks();
+		TestSecuritiesDealDetailImpl original = (TestSecuritiesDealDetailImpl) _behavior.copyThenInsert(this);
+		if (investmentFinancingDealDetail != null)
+		{
+			investmentFinancingDealDetail.zCascadeCopyThenInsert();
+		}
+
+		if (checkDesks != null)
+		{
+			checkDesks.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		{
+			TestInvestmentFinancingDealDetail related = this.getInvestmentFinancingDealDetail();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.getCheckDesks().cascadeDeleteAll();
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestSecuritiesDealDetailImplFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestSecuritiesDealDetailImplFinder.getMithraObjectPortal();
+	}
+
+	public TestSecuritiesDealDetailImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestSecuritiesDealDetailImplFinder.checkId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestSecuritiesDealDetailImplAbstract result = (TestSecuritiesDealDetailImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class InvestmentFinancingDealDetailAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestInvestmentFinancingDealDetail item = (TestInvestmentFinancingDealDetail) relatedObject;
+			item.setCheckId(getCheckId());
+			item.zSetParentContainersecuritiesDealDetail(TestSecuritiesDealDetailImplAbstract.this);
+		}
+	}
+
+	protected class InvestmentFinancingDealDetailAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestInvestmentFinancingDealDetail item = (TestInvestmentFinancingDealDetail) relatedObject;
+			item.setCheckId(getCheckId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class CheckDesksAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestCheckGsDesk item = (TestCheckGsDesk) relatedObject;
+			item.setCheckId(getCheckId());
+		}
+	}
+
+	protected class CheckDesksAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestCheckGsDesk item = (TestCheckGsDesk) relatedObject;
+			item.setCheckId(getCheckId());
+			item.cascadeInsert();
+		}
+	}
+}
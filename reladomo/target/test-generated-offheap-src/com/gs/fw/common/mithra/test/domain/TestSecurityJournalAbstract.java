@@ -0,0 +1,720 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestSecurityJournalAbstract extends com.gs.fw.common.mithra.test.domain.TestAbstractTransaction implements MithraDatedTransactionalObject, Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericNonAuditedTemporalDirector(
+		TestSecurityJournalFinder.processingDate()
+	, TestSecurityJournalFinder.zGetDoubleAttributes(),TestSecurityJournalFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestSecurityJournal.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestSecurityJournalAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestSecurityJournalFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestSecurityJournalData zSynchronizedGetData()
+	{
+		return (TestSecurityJournalData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestSecurityJournalFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestSecurityJournal zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestSecurityJournal original = (TestSecurityJournal) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public void inactivateForArchiving(Timestamp processingDateTo, Timestamp businessDateTo) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("inactivateForArchiving is only supported for dated objects with a processing date");
+	}
+
+	public TestSecurityJournal copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestSecurityJournal) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestSecurityJournal copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestSecurityJournal) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, processingDate,
+			true);
+	}
+
+	public TestSecurityJournal getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		TestSecurityJournalAbstract result = (TestSecurityJournalAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestSecurityJournal ) result;
+	}
+
+	public TestSecurityJournal zFindOriginal()
+	{
+		TestSecurityJournalData data = (TestSecurityJournalData) this.currentData;
+		Operation op;
+		op = TestSecurityJournalFinder.sourceSystem().eq(data.getSourceSystem());
+		op = op.and(TestSecurityJournalFinder.sourceTradeId().eq(data.getSourceTradeId()));
+		op = op.and(TestSecurityJournalFinder.sourceTransactionId().eq(data.getSourceTransactionId()));
+		op = op.and(TestSecurityJournalFinder.sourceId().eq(data.getSourceId()));
+		op = op.and(TestSecurityJournalFinder.processingDate().eq(this.getProcessingDate()));
+		return TestSecurityJournalFinder.findOne(op);
+	}
+
+	public TestSecurityJournal getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		TestSecurityJournalAbstract result = (TestSecurityJournalAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestSecurityJournal ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestSecurityJournal copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestSecurityJournal) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestSecurityJournal copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestSecurityJournal) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestSecurityJournalData data = (TestSecurityJournalData) this.currentData;
+			Operation op = TestSecurityJournalFinder.processingDate().eq(this.processingDate);
+			op = op.and(TestSecurityJournalFinder.sourceId().eq(data.getSourceId()));
+			op = op.and(TestSecurityJournalFinder.sourceSystem().eq(data.getSourceSystem()));
+			op = op.and(TestSecurityJournalFinder.sourceTradeId().eq(data.getSourceTradeId()));
+			op = op.and(TestSecurityJournalFinder.sourceTransactionId().eq(data.getSourceTransactionId()));
+			return TestSecurityJournalFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestSecurityJournalData data = (TestSecurityJournalData) d;
+		Timestamp businessTo = data.getProcessingDateTo();
+		return businessTo != null && TestSecurityJournalFinder.processingDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestSecurityJournalData data = (TestSecurityJournalData) d;
+		Timestamp businessTo = data.getProcessingDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isClearanceBrokerBankNull()
+	{
+		return this.zSynchronizedGetData().isClearanceBrokerBankNull();
+	}
+
+	public boolean isClearingAgentNull()
+	{
+		return this.zSynchronizedGetData().isClearingAgentNull();
+	}
+
+	public boolean isClearingAgentReferenceIdNull()
+	{
+		return this.zSynchronizedGetData().isClearingAgentReferenceIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return this.zSynchronizedGetData().isSourceIdNull();
+	}
+
+	public boolean isSourceSystemNull()
+	{
+		return this.zSynchronizedGetData().isSourceSystemNull();
+	}
+
+	public boolean isSourceTradeIdNull()
+	{
+		return this.zSynchronizedGetData().isSourceTradeIdNull();
+	}
+
+	public boolean isSourceTransactionIdNull()
+	{
+		return this.zSynchronizedGetData().isSourceTransactionIdNull();
+	}
+
+	public boolean isSubMessageTypeNull()
+	{
+		return this.zSynchronizedGetData().isSubMessageTypeNull();
+	}
+
+	public String getClearanceBrokerBank()
+	{
+		return this.zSynchronizedGetData().getClearanceBrokerBank();
+	}
+
+	public void setClearanceBrokerBank(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			newValue = newValue.substring(0, 20 ).trim();
+		}
+
+		zSetString(TestSecurityJournalFinder.clearanceBrokerBank(), newValue, false );
+	}
+
+	public void setClearanceBrokerBankUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			newValue = newValue.substring(0, 20 ).trim();
+		}
+
+		zSetString(TestSecurityJournalFinder.clearanceBrokerBank(), newValue, false , exclusiveUntil);
+	}
+
+	public String getClearingAgent()
+	{
+		return this.zSynchronizedGetData().getClearingAgent();
+	}
+
+	public void setClearingAgent(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			newValue = newValue.substring(0, 4 ).trim();
+		}
+
+		zSetString(TestSecurityJournalFinder.clearingAgent(), newValue, false );
+	}
+
+	public void setClearingAgentUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			newValue = newValue.substring(0, 4 ).trim();
+		}
+
+		zSetString(TestSecurityJournalFinder.clearingAgent(), newValue, false , exclusiveUntil);
+	}
+
+	public String getClearingAgentReferenceId()
+	{
+		return this.zSynchronizedGetData().getClearingAgentReferenceId();
+	}
+
+	public void setClearingAgentReferenceId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 25)
+		{
+			newValue = newValue.substring(0, 25 ).trim();
+		}
+
+		zSetString(TestSecurityJournalFinder.clearingAgentReferenceId(), newValue, false );
+	}
+
+	public void setClearingAgentReferenceIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 25)
+		{
+			newValue = newValue.substring(0, 25 ).trim();
+		}
+
+		zSetString(TestSecurityJournalFinder.clearingAgentReferenceId(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestSecurityJournalFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestSecurityJournalFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getSourceId()
+	{
+		return this.zSynchronizedGetData().getSourceId();
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(TestSecurityJournalFinder.sourceId(), newValue, true ,false);
+	}
+
+	public void setSourceIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestSecurityJournalFinder.sourceId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public String getSourceSystem()
+	{
+		return this.zSynchronizedGetData().getSourceSystem();
+	}
+
+	public void setSourceSystem(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 6)
+		{
+			throw new MithraBusinessException("Attribute 'sourceSystem' cannot exceed maximum length of 6: " + newValue);
+		}
+
+		zSetString(TestSecurityJournalFinder.sourceSystem(), newValue, true );
+	}
+
+	public void setSourceSystemUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 6)
+		{
+			throw new MithraBusinessException("Attribute 'sourceSystem' cannot exceed maximum length of 6: " + newValue);
+		}
+
+		zSetString(TestSecurityJournalFinder.sourceSystem(), newValue, true , exclusiveUntil);
+	}
+
+	public String getSourceTradeId()
+	{
+		return this.zSynchronizedGetData().getSourceTradeId();
+	}
+
+	public void setSourceTradeId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'sourceTradeId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(TestSecurityJournalFinder.sourceTradeId(), newValue, true );
+	}
+
+	public void setSourceTradeIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'sourceTradeId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(TestSecurityJournalFinder.sourceTradeId(), newValue, true , exclusiveUntil);
+	}
+
+	public String getSourceTransactionId()
+	{
+		return this.zSynchronizedGetData().getSourceTransactionId();
+	}
+
+	public void setSourceTransactionId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'sourceTransactionId' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestSecurityJournalFinder.sourceTransactionId(), newValue, true );
+	}
+
+	public void setSourceTransactionIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'sourceTransactionId' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestSecurityJournalFinder.sourceTransactionId(), newValue, true , exclusiveUntil);
+	}
+
+	public String getSubMessageType()
+	{
+		return this.zSynchronizedGetData().getSubMessageType();
+	}
+
+	public void setSubMessageType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			newValue = newValue.substring(0, 4 ).trim();
+		}
+
+		zSetString(TestSecurityJournalFinder.subMessageType(), newValue, false );
+	}
+
+	public void setSubMessageTypeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			newValue = newValue.substring(0, 4 ).trim();
+		}
+
+		zSetString(TestSecurityJournalFinder.subMessageType(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestSecurityJournalData data2 = (TestSecurityJournalData) data;
+		Timestamp businessTo = data2.getProcessingDateTo();
+		return (businessTo != null && TestSecurityJournalFinder.processingDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestSecurityJournalData _newData = (TestSecurityJournalData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestSecurityJournalData _newData = (TestSecurityJournalData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestSecurityJournalData _newData = (TestSecurityJournalData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TestSecurityJournalFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestSecurityJournalData.TestSecurityJournalDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestSecurityJournalData data = (TestSecurityJournalData) TestSecurityJournalFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestSecurityJournal has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestSecurityJournalData( TestSecurityJournalData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestSecurityJournalData( TestSecurityJournalData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestSecurityJournalFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestSecurityJournalFinder.getMithraObjectPortal();
+	}
+
+	public TestSecurityJournal getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestSecurityJournalAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestSecurityJournalAbstract from = (TestSecurityJournalAbstract) f;
+		TestSecurityJournalData newData = from.zSynchronizedGetData();
+		this.setClearanceBrokerBank(newData.getClearanceBrokerBank());
+		this.setClearingAgent(newData.getClearingAgent());
+		this.setClearingAgentReferenceId(newData.getClearingAgentReferenceId());
+		this.setSubMessageType(newData.getSubMessageType());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestSecurityJournalData _newData = (TestSecurityJournalData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestSecurityJournalData _newData = (TestSecurityJournalData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestSecurityJournalAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestSecurityJournalAbstract from = (TestSecurityJournalAbstract)f;
+		TestSecurityJournalData newData = from.zSynchronizedGetData();
+		this.setClearanceBrokerBankUntil(newData.getClearanceBrokerBank(), exclusiveUntil);
+		this.setClearingAgentUntil(newData.getClearingAgent(), exclusiveUntil);
+		this.setClearingAgentReferenceIdUntil(newData.getClearingAgentReferenceId(), exclusiveUntil);
+		this.setSubMessageTypeUntil(newData.getSubMessageType(), exclusiveUntil);
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.clearanceBrokerBank(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.clearingAgent(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.clearingAgentReferenceId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestSecurityJournalFinder.sourceId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.sourceSystem(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.sourceTradeId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.sourceTransactionId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.subMessageType(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.clearanceBrokerBank(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.clearingAgent(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.clearingAgentReferenceId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestSecurityJournalFinder.sourceId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.sourceSystem(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.sourceTradeId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.sourceTransactionId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityJournalFinder.subMessageType(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestSecurityJournalData data = ((TestSecurityJournalData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestSecurityJournalData data = ((TestSecurityJournalData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestSecurityJournalData data = ((TestSecurityJournalData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestSecurityJournalFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestSecurityJournalData localData = (TestSecurityJournalData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
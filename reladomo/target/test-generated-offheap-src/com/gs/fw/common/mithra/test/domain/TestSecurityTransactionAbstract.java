@@ -0,0 +1,648 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestSecurityTransactionAbstract extends com.gs.fw.common.mithra.test.domain.TestAbstractTransaction implements MithraDatedTransactionalObject, Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericNonAuditedTemporalDirector(
+		TestSecurityTransactionFinder.processingDate()
+	, TestSecurityTransactionFinder.zGetDoubleAttributes(),TestSecurityTransactionFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestSecurityTransaction.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestSecurityTransactionAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestSecurityTransactionFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestSecurityTransactionData zSynchronizedGetData()
+	{
+		return (TestSecurityTransactionData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestSecurityTransactionFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestSecurityTransaction zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestSecurityTransaction original = (TestSecurityTransaction) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public void inactivateForArchiving(Timestamp processingDateTo, Timestamp businessDateTo) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("inactivateForArchiving is only supported for dated objects with a processing date");
+	}
+
+	public TestSecurityTransaction copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestSecurityTransaction) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestSecurityTransaction copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestSecurityTransaction) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, processingDate,
+			true);
+	}
+
+	public TestSecurityTransaction getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		TestSecurityTransactionAbstract result = (TestSecurityTransactionAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestSecurityTransaction ) result;
+	}
+
+	public TestSecurityTransaction zFindOriginal()
+	{
+		TestSecurityTransactionData data = (TestSecurityTransactionData) this.currentData;
+		Operation op;
+		op = TestSecurityTransactionFinder.sourceSystem().eq(data.getSourceSystem());
+		op = op.and(TestSecurityTransactionFinder.sourceTradeId().eq(data.getSourceTradeId()));
+		op = op.and(TestSecurityTransactionFinder.sourceTransactionId().eq(data.getSourceTransactionId()));
+		op = op.and(TestSecurityTransactionFinder.sourceId().eq(data.getSourceId()));
+		op = op.and(TestSecurityTransactionFinder.processingDate().eq(this.getProcessingDate()));
+		return TestSecurityTransactionFinder.findOne(op);
+	}
+
+	public TestSecurityTransaction getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		TestSecurityTransactionAbstract result = (TestSecurityTransactionAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestSecurityTransaction ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestSecurityTransaction copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestSecurityTransaction) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestSecurityTransaction copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestSecurityTransaction) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestSecurityTransactionData data = (TestSecurityTransactionData) this.currentData;
+			Operation op = TestSecurityTransactionFinder.processingDate().eq(this.processingDate);
+			op = op.and(TestSecurityTransactionFinder.sourceId().eq(data.getSourceId()));
+			op = op.and(TestSecurityTransactionFinder.sourceSystem().eq(data.getSourceSystem()));
+			op = op.and(TestSecurityTransactionFinder.sourceTradeId().eq(data.getSourceTradeId()));
+			op = op.and(TestSecurityTransactionFinder.sourceTransactionId().eq(data.getSourceTransactionId()));
+			return TestSecurityTransactionFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestSecurityTransactionData data = (TestSecurityTransactionData) d;
+		Timestamp businessTo = data.getProcessingDateTo();
+		return businessTo != null && TestSecurityTransactionFinder.processingDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestSecurityTransactionData data = (TestSecurityTransactionData) d;
+		Timestamp businessTo = data.getProcessingDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isExchangeCodeNull()
+	{
+		return this.zSynchronizedGetData().isExchangeCodeNull();
+	}
+
+	public boolean isOriginatingTradeIdNull()
+	{
+		return this.zSynchronizedGetData().isOriginatingTradeIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return this.zSynchronizedGetData().isSourceIdNull();
+	}
+
+	public boolean isSourceSystemNull()
+	{
+		return this.zSynchronizedGetData().isSourceSystemNull();
+	}
+
+	public boolean isSourceTradeIdNull()
+	{
+		return this.zSynchronizedGetData().isSourceTradeIdNull();
+	}
+
+	public boolean isSourceTransactionIdNull()
+	{
+		return this.zSynchronizedGetData().isSourceTransactionIdNull();
+	}
+
+	public String getExchangeCode()
+	{
+		return this.zSynchronizedGetData().getExchangeCode();
+	}
+
+	public void setExchangeCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			newValue = newValue.substring(0, 4 ).trim();
+		}
+
+		zSetString(TestSecurityTransactionFinder.exchangeCode(), newValue, false );
+	}
+
+	public void setExchangeCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			newValue = newValue.substring(0, 4 ).trim();
+		}
+
+		zSetString(TestSecurityTransactionFinder.exchangeCode(), newValue, false , exclusiveUntil);
+	}
+
+	public String getOriginatingTradeId()
+	{
+		return this.zSynchronizedGetData().getOriginatingTradeId();
+	}
+
+	public void setOriginatingTradeId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			newValue = newValue.substring(0, 15 ).trim();
+		}
+
+		zSetString(TestSecurityTransactionFinder.originatingTradeId(), newValue, false );
+	}
+
+	public void setOriginatingTradeIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			newValue = newValue.substring(0, 15 ).trim();
+		}
+
+		zSetString(TestSecurityTransactionFinder.originatingTradeId(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestSecurityTransactionFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestSecurityTransactionFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getSourceId()
+	{
+		return this.zSynchronizedGetData().getSourceId();
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(TestSecurityTransactionFinder.sourceId(), newValue, true ,false);
+	}
+
+	public void setSourceIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestSecurityTransactionFinder.sourceId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public String getSourceSystem()
+	{
+		return this.zSynchronizedGetData().getSourceSystem();
+	}
+
+	public void setSourceSystem(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 6)
+		{
+			throw new MithraBusinessException("Attribute 'sourceSystem' cannot exceed maximum length of 6: " + newValue);
+		}
+
+		zSetString(TestSecurityTransactionFinder.sourceSystem(), newValue, true );
+	}
+
+	public void setSourceSystemUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 6)
+		{
+			throw new MithraBusinessException("Attribute 'sourceSystem' cannot exceed maximum length of 6: " + newValue);
+		}
+
+		zSetString(TestSecurityTransactionFinder.sourceSystem(), newValue, true , exclusiveUntil);
+	}
+
+	public String getSourceTradeId()
+	{
+		return this.zSynchronizedGetData().getSourceTradeId();
+	}
+
+	public void setSourceTradeId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'sourceTradeId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(TestSecurityTransactionFinder.sourceTradeId(), newValue, true );
+	}
+
+	public void setSourceTradeIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'sourceTradeId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(TestSecurityTransactionFinder.sourceTradeId(), newValue, true , exclusiveUntil);
+	}
+
+	public String getSourceTransactionId()
+	{
+		return this.zSynchronizedGetData().getSourceTransactionId();
+	}
+
+	public void setSourceTransactionId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'sourceTransactionId' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestSecurityTransactionFinder.sourceTransactionId(), newValue, true );
+	}
+
+	public void setSourceTransactionIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'sourceTransactionId' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestSecurityTransactionFinder.sourceTransactionId(), newValue, true , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestSecurityTransactionData data2 = (TestSecurityTransactionData) data;
+		Timestamp businessTo = data2.getProcessingDateTo();
+		return (businessTo != null && TestSecurityTransactionFinder.processingDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestSecurityTransactionData _newData = (TestSecurityTransactionData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestSecurityTransactionData _newData = (TestSecurityTransactionData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestSecurityTransactionData _newData = (TestSecurityTransactionData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TestSecurityTransactionFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestSecurityTransactionData.TestSecurityTransactionDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestSecurityTransactionData data = (TestSecurityTransactionData) TestSecurityTransactionFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestSecurityTransaction has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestSecurityTransactionData( TestSecurityTransactionData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestSecurityTransactionData( TestSecurityTransactionData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestSecurityTransactionFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestSecurityTransactionFinder.getMithraObjectPortal();
+	}
+
+	public TestSecurityTransaction getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestSecurityTransactionAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestSecurityTransactionAbstract from = (TestSecurityTransactionAbstract) f;
+		TestSecurityTransactionData newData = from.zSynchronizedGetData();
+		this.setExchangeCode(newData.getExchangeCode());
+		this.setOriginatingTradeId(newData.getOriginatingTradeId());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestSecurityTransactionData _newData = (TestSecurityTransactionData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestSecurityTransactionData _newData = (TestSecurityTransactionData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestSecurityTransactionAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestSecurityTransactionAbstract from = (TestSecurityTransactionAbstract)f;
+		TestSecurityTransactionData newData = from.zSynchronizedGetData();
+		this.setExchangeCodeUntil(newData.getExchangeCode(), exclusiveUntil);
+		this.setOriginatingTradeIdUntil(newData.getOriginatingTradeId(), exclusiveUntil);
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.exchangeCode(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.originatingTradeId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestSecurityTransactionFinder.sourceId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.sourceSystem(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.sourceTradeId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.sourceTransactionId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.exchangeCode(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.originatingTradeId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestSecurityTransactionFinder.sourceId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.sourceSystem(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.sourceTradeId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestSecurityTransactionFinder.sourceTransactionId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestSecurityTransactionData data = ((TestSecurityTransactionData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestSecurityTransactionData data = ((TestSecurityTransactionData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestSecurityTransactionData data = ((TestSecurityTransactionData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestSecurityTransactionFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestSecurityTransactionData localData = (TestSecurityTransactionData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1081 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestSecurityTransactionData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 44;
+	boolean isExchangeCodeNull();
+	String getExchangeCode();
+	void setExchangeCode(String value);
+	void setExchangeCodeNull();
+	int zGetExchangeCodeAsInt();
+	boolean isOriginatingTradeIdNull();
+	String getOriginatingTradeId();
+	void setOriginatingTradeId(String value);
+	void setOriginatingTradeIdNull();
+	int zGetOriginatingTradeIdAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isSourceIdNull();
+	int getSourceId();
+	void setSourceId(int value);
+	void setSourceIdNull();
+	boolean isSourceSystemNull();
+	String getSourceSystem();
+	void setSourceSystem(String value);
+	void setSourceSystemNull();
+	int zGetSourceSystemAsInt();
+	boolean isSourceTradeIdNull();
+	String getSourceTradeId();
+	void setSourceTradeId(String value);
+	void setSourceTradeIdNull();
+	int zGetSourceTradeIdAsInt();
+	boolean isSourceTransactionIdNull();
+	String getSourceTransactionId();
+	void setSourceTransactionId(String value);
+	void setSourceTransactionIdNull();
+	int zGetSourceTransactionIdAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TestSecurityTransactionDataOnHeap implements TestSecurityTransactionData
+	{
+		private byte _dataVersion;
+		private String exchangeCode;
+		private String originatingTradeId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int sourceId;
+		private String sourceSystem;
+		private String sourceTradeId;
+		private String sourceTransactionId;
+		public boolean isExchangeCodeNull()
+		{
+			return this.getExchangeCode() == null;
+		}
+
+		public boolean isOriginatingTradeIdNull()
+		{
+			return this.getOriginatingTradeId() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isSourceIdNull()
+		{
+			return false;
+		}
+
+		public boolean isSourceSystemNull()
+		{
+			return this.getSourceSystem() == null;
+		}
+
+		public boolean isSourceTradeIdNull()
+		{
+			return this.getSourceTradeId() == null;
+		}
+
+		public boolean isSourceTransactionIdNull()
+		{
+			return this.getSourceTransactionId() == null;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.exchangeCode);
+			out.writeObject(this.originatingTradeId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TestSecurityTransactionFinder.processingDate().getInfinityDate());
+			out.writeInt(this.sourceId);
+			out.writeObject(this.sourceSystem);
+			out.writeObject(this.sourceTradeId);
+			out.writeObject(this.sourceTransactionId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getExchangeCode()
+		{
+			return this.exchangeCode;
+		}
+
+		public int zGetExchangeCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(exchangeCode);
+		}
+
+		public void setExchangeCode(String value)
+		{
+			this.exchangeCode = StringPool.getInstance().getOrAddToCache(value, TestSecurityTransactionFinder.isFullCache());
+		}
+
+		public void setExchangeCodeNull()
+		{
+			this.setExchangeCode(null);
+		}
+
+		public String getOriginatingTradeId()
+		{
+			return this.originatingTradeId;
+		}
+
+		public int zGetOriginatingTradeIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(originatingTradeId);
+		}
+
+		public void setOriginatingTradeId(String value)
+		{
+			this.originatingTradeId = value;
+		}
+
+		public void setOriginatingTradeIdNull()
+		{
+			this.setOriginatingTradeId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestSecurityTransactionFinder.isFullCache(), TestSecurityTransactionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestSecurityTransactionFinder.isFullCache(), TestSecurityTransactionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getSourceId()
+		{
+			return this.sourceId;
+		}
+
+		public void setSourceId(int value)
+		{
+			this.sourceId = value;
+		}
+
+		public void setSourceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getSourceSystem()
+		{
+			return this.sourceSystem;
+		}
+
+		public int zGetSourceSystemAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(sourceSystem);
+		}
+
+		public void setSourceSystem(String value)
+		{
+			this.sourceSystem = StringPool.getInstance().getOrAddToCache(value, TestSecurityTransactionFinder.isFullCache());
+		}
+
+		public void setSourceSystemNull()
+		{
+			this.setSourceSystem(null);
+		}
+
+		public String getSourceTradeId()
+		{
+			return this.sourceTradeId;
+		}
+
+		public int zGetSourceTradeIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(sourceTradeId);
+		}
+
+		public void setSourceTradeId(String value)
+		{
+			this.sourceTradeId = StringPool.getInstance().getOrAddToCache(value, TestSecurityTransactionFinder.isFullCache());
+		}
+
+		public void setSourceTradeIdNull()
+		{
+			this.setSourceTradeId(null);
+		}
+
+		public String getSourceTransactionId()
+		{
+			return this.sourceTransactionId;
+		}
+
+		public int zGetSourceTransactionIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(sourceTransactionId);
+		}
+
+		public void setSourceTransactionId(String value)
+		{
+			this.sourceTransactionId = value;
+		}
+
+		public void setSourceTransactionIdNull()
+		{
+			this.setSourceTransactionId(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestSecurityTransactionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.exchangeCode = this.exchangeCode;
+			copy.originatingTradeId = this.originatingTradeId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.sourceId = this.sourceId;
+			copy.sourceSystem = this.sourceSystem;
+			copy.sourceTradeId = this.sourceTradeId;
+			copy.sourceTransactionId = this.sourceTransactionId;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.exchangeCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSecurityTransactionFinder.isFullCache());
+			this.originatingTradeId = (String)in.readObject();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestSecurityTransactionFinder.isFullCache(), TestSecurityTransactionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestSecurityTransactionFinder.processingDate().getInfinityDate()), TestSecurityTransactionFinder.isFullCache(), TestSecurityTransactionFinder.isOffHeap());
+			this.sourceId = in.readInt();
+			this.sourceSystem = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSecurityTransactionFinder.isFullCache());
+			this.sourceTradeId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSecurityTransactionFinder.isFullCache());
+			this.sourceTransactionId = (String)in.readObject();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestSecurityTransactionData otherData = (TestSecurityTransactionData) other;
+			if (getSourceId() != otherData.getSourceId())
+			{
+				return false;
+			}
+
+			if (!isSourceSystemNull() ? !getSourceSystem().equals(otherData.getSourceSystem()) : !otherData.isSourceSystemNull())
+			{
+				return false;
+			}
+
+			if (!isSourceTradeIdNull() ? !getSourceTradeId().equals(otherData.getSourceTradeId()) : !otherData.isSourceTradeIdNull())
+			{
+				return false;
+			}
+
+			if (!isSourceTransactionIdNull() ? !getSourceTransactionId().equals(otherData.getSourceTransactionId()) : !otherData.isSourceTransactionIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TestSecurityTransactionFinder.processingDate().getInfinityDate());
+			out.writeInt(this.sourceId);
+			out.writeObject(this.sourceSystem);
+			out.writeObject(this.sourceTradeId);
+			out.writeObject(this.sourceTransactionId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestSecurityTransactionFinder.isFullCache(), TestSecurityTransactionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestSecurityTransactionFinder.processingDate().getInfinityDate()), TestSecurityTransactionFinder.isFullCache(), TestSecurityTransactionFinder.isOffHeap());
+			this.sourceId = in.readInt();
+			this.sourceSystem = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSecurityTransactionFinder.isFullCache());
+			this.sourceTradeId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSecurityTransactionFinder.isFullCache());
+			this.sourceTransactionId = (String)in.readObject();
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestSecurityTransactionDataOffHeap data = new TestSecurityTransactionDataOffHeap();
+			data.setExchangeCode(this.getExchangeCode());
+			data.setOriginatingTradeId(this.getOriginatingTradeId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setSourceId(this.getSourceId());
+			data.setSourceSystem(this.getSourceSystem());
+			data.setSourceTradeId(this.getSourceTradeId());
+			data.setSourceTransactionId(this.getSourceTransactionId());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestSecurityTransactionData testSecurityTransactionData = (TestSecurityTransactionData) newData;
+			this.setExchangeCode(testSecurityTransactionData.getExchangeCode());
+			this.setOriginatingTradeId(testSecurityTransactionData.getOriginatingTradeId());
+			this.setProcessingDateFrom(testSecurityTransactionData.getProcessingDateFrom());
+			this.setProcessingDateTo(testSecurityTransactionData.getProcessingDateTo());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestSecurityTransactionData other = (TestSecurityTransactionData) newData;
+			if (!isExchangeCodeNull() ? !getExchangeCode().equals(other.getExchangeCode()) : !other.isExchangeCodeNull())
+			{
+				return true;
+			}
+
+			if (!isOriginatingTradeIdNull() ? !getOriginatingTradeId().equals(other.getOriginatingTradeId()) : !other.isOriginatingTradeIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestSecurityTransactionDataOnHeap copy = new TestSecurityTransactionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestSecurityTransactionDataOnHeap copy = new TestSecurityTransactionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "sourceId: "+(""+getSourceId())+ " / ";
+			result += "sourceSystem: "+"'"+getSourceSystem()+"'"+ " / ";
+			result += "sourceTradeId: "+"'"+getSourceTradeId()+"'"+ " / ";
+			result += "sourceTransactionId: "+"'"+getSourceTransactionId()+"'"+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestSecurityTransactionData otherData = (TestSecurityTransactionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestSecurityTransactionData otherData = (TestSecurityTransactionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSecurityTransactionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestSecurityTransactionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestSecurityTransactionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSecurityTransactionData";
+		}
+	}
+
+	public class TestSecurityTransactionDataOffHeap extends MithraOffHeapDataObject implements TestSecurityTransactionData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestSecurityTransactionDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 28);
+			this.zSetTimestamp(_storage, value, 36);
+		}
+
+		public TestSecurityTransactionDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isExchangeCodeNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isOriginatingTradeIdNull()
+		{
+			return zIsStringNull(_storage, 24);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 36);
+		}
+
+		public boolean isSourceIdNull()
+		{
+			return false;
+		}
+
+		public boolean isSourceSystemNull()
+		{
+			return zIsStringNull(_storage, 8);
+		}
+
+		public boolean isSourceTradeIdNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isSourceTransactionIdNull()
+		{
+			return zIsStringNull(_storage, 16);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getExchangeCode());
+			out.writeObject(this.getOriginatingTradeId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestSecurityTransactionFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getSourceId());
+			out.writeObject(this.getSourceSystem());
+			out.writeObject(this.getSourceTradeId());
+			out.writeObject(this.getSourceTransactionId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getExchangeCode()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetExchangeCodeAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setExchangeCode(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setExchangeCodeNull()
+		{
+			this.setExchangeCode(null);
+		}
+
+		public String getOriginatingTradeId()
+		{
+			return zGetString(_storage, 24);
+		}
+
+		public int zGetOriginatingTradeIdAsInt()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setOriginatingTradeId(String value)
+		{
+			zSetString(_storage, value, 24);
+		}
+
+		public void setOriginatingTradeIdNull()
+		{
+			this.setOriginatingTradeId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 36);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 36);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 36);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getSourceId()
+		{
+			return zGetInteger(_storage, 4);
+		}
+
+		public void setSourceId(int value)
+		{
+			zSetInteger(_storage, value, 4, -1, -1);
+		}
+
+		public void setSourceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getSourceSystem()
+		{
+			return zGetString(_storage, 8);
+		}
+
+		public int zGetSourceSystemAsInt()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setSourceSystem(String value)
+		{
+			zSetString(_storage, value, 8);
+		}
+
+		public void setSourceSystemNull()
+		{
+			this.setSourceSystem(null);
+		}
+
+		public String getSourceTradeId()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetSourceTradeIdAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setSourceTradeId(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setSourceTradeIdNull()
+		{
+			this.setSourceTradeId(null);
+		}
+
+		public String getSourceTransactionId()
+		{
+			return zGetString(_storage, 16);
+		}
+
+		public int zGetSourceTransactionIdAsInt()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setSourceTransactionId(String value)
+		{
+			zSetString(_storage, value, 16);
+		}
+
+		public void setSourceTransactionIdNull()
+		{
+			this.setSourceTransactionId(null);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestSecurityTransactionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.exchangeCode = this.getExchangeCode();
+			copy.originatingTradeId = this.getOriginatingTradeId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.sourceId = this.getSourceId();
+			copy.sourceSystem = this.getSourceSystem();
+			copy.sourceTradeId = this.getSourceTradeId();
+			copy.sourceTransactionId = this.getSourceTransactionId();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetString(_storage, (String)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetInteger(_storage, in.readInt(), 4, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 16);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestSecurityTransactionDataOffHeap)
+			{
+				final TestSecurityTransactionDataOffHeap otherData = (TestSecurityTransactionDataOffHeap) other;
+				if (this.zGetInteger(_storage, 4) != otherData.zGetInteger(_storage, 4))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 16) != otherData.zGetInteger(_storage, 16))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestSecurityTransactionData otherData = (TestSecurityTransactionData) other;
+			if (getSourceId() != otherData.getSourceId())
+			{
+				return false;
+			}
+
+			if (!isSourceSystemNull() ? !getSourceSystem().equals(otherData.getSourceSystem()) : !otherData.isSourceSystemNull())
+			{
+				return false;
+			}
+
+			if (!isSourceTradeIdNull() ? !getSourceTradeId().equals(otherData.getSourceTradeId()) : !otherData.isSourceTradeIdNull())
+			{
+				return false;
+			}
+
+			if (!isSourceTransactionIdNull() ? !getSourceTransactionId().equals(otherData.getSourceTransactionId()) : !otherData.isSourceTransactionIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestSecurityTransactionFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getSourceId());
+			out.writeObject(this.getSourceSystem());
+			out.writeObject(this.getSourceTradeId());
+			out.writeObject(this.getSourceTransactionId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetInteger(_storage, in.readInt(), 4, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 16);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestSecurityTransactionData testSecurityTransactionData = (TestSecurityTransactionData) newData;
+			this.setExchangeCode(testSecurityTransactionData.getExchangeCode());
+			this.setOriginatingTradeId(testSecurityTransactionData.getOriginatingTradeId());
+			this.setProcessingDateFrom(testSecurityTransactionData.getProcessingDateFrom());
+			this.setProcessingDateTo(testSecurityTransactionData.getProcessingDateTo());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestSecurityTransactionData other = (TestSecurityTransactionData) newData;
+			if (!isExchangeCodeNull() ? !getExchangeCode().equals(other.getExchangeCode()) : !other.isExchangeCodeNull())
+			{
+				return true;
+			}
+
+			if (!isOriginatingTradeIdNull() ? !getOriginatingTradeId().equals(other.getOriginatingTradeId()) : !other.isOriginatingTradeIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestSecurityTransactionDataOnHeap copy = new TestSecurityTransactionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestSecurityTransactionDataOnHeap copy = new TestSecurityTransactionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "sourceId: "+(""+getSourceId())+ " / ";
+			result += "sourceSystem: "+"'"+getSourceSystem()+"'"+ " / ";
+			result += "sourceTradeId: "+"'"+getSourceTradeId()+"'"+ " / ";
+			result += "sourceTransactionId: "+"'"+getSourceTransactionId()+"'"+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestSecurityTransactionData otherData = (TestSecurityTransactionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestSecurityTransactionData otherData = (TestSecurityTransactionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSecurityTransactionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestSecurityTransactionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestSecurityTransactionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSecurityTransactionData";
+		}
+	}
+}
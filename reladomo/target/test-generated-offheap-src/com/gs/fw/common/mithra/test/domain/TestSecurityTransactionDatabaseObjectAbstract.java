@@ -0,0 +1,559 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestSecurityTransactionDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "exchange_code_c,org_trade_id_c,in_z,out_z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.exchange_code_c,t0.org_trade_id_c,t0.in_z,t0.out_z";
+	private static final String PK_WITH_ALIAS = "t0.src_system_c = ? AND t0.src_trade_id_c = ? AND t0.src_trx_id_c = ? AND t0.source_id_i = ?";
+	private static final String PK_INDEX_COLS = "src_system_c,src_trade_id_c,src_trx_id_c,source_id_i";
+	protected TestSecurityTransactionDatabaseObjectAbstract()
+	{
+		super("TestSecurityTransaction", "com.gs.fw.common.mithra.test.domain.TestSecurityTransactionFinder",
+			8, 8,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestSecurityTransactionFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestSecurityTransactionFinder.getFinderInstance();
+	}
+
+	public static TestSecurityTransactionData allocateOnHeapData()
+	{
+		return new TestSecurityTransactionData.TestSecurityTransactionDataOnHeap();
+	}
+
+	public static TestSecurityTransactionData allocateOffHeapData()
+	{
+		return new TestSecurityTransactionData.TestSecurityTransactionDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestSecurityTransactionData.TestSecurityTransactionDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestSecurityTransactionFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestSecurityTransactionData data = new TestSecurityTransactionData.TestSecurityTransactionDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestSecurityTransactionFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestSecurityTransactionData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestSecurityTransaction", TestSecurityTransactionFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("TestSecurityTransaction"));
+			TestSecurityTransactionData.TestSecurityTransactionDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(TestSecurityTransactionFinder.getPrimaryKeyAttributes(), TestSecurityTransactionFinder.getAsOfAttributes(), this, TestSecurityTransactionFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(TestSecurityTransactionFinder.getPrimaryKeyAttributes(), TestSecurityTransactionFinder.getAsOfAttributes(), this, TestSecurityTransactionFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(TestSecurityTransactionFinder.getPrimaryKeyAttributes(), TestSecurityTransactionFinder.getAsOfAttributes(), this, TestSecurityTransactionFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(TestSecurityTransactionFinder.getPrimaryKeyAttributes(), TestSecurityTransactionFinder.getAsOfAttributes(), this, TestSecurityTransactionFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(TestSecurityTransactionFinder.getPrimaryKeyAttributes(), TestSecurityTransactionFinder.getAsOfAttributes(), this, TestSecurityTransactionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestSecurityTransactionData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestSecurityTransaction", TestSecurityTransactionFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			TestSecurityTransactionData.TestSecurityTransactionDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(TestSecurityTransactionFinder.getPrimaryKeyAttributes(), TestSecurityTransactionFinder.getAsOfAttributes(), this, TestSecurityTransactionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(TestSecurityTransactionFinder.getPrimaryKeyAttributes(), TestSecurityTransactionFinder.getAsOfAttributes(), this, TestSecurityTransactionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestSecurityTransactionFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestSecurityTransactionFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TestSecurityTransaction.zConfigFullTx();
+		}
+		else
+		{
+			TestSecurityTransaction.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestSecurityTransactionData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestSecurityTransactionData(1, (TestSecurityTransactionData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestSecurityTransactionPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestSecurityTransactionTableName();
+	}
+
+	public String getTestSecurityTransactionTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestSecurityTransactionData data = (TestSecurityTransactionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getSourceSystem());
+		stm.setString(pos++, data.getSourceTradeId());
+		stm.setString(pos++, data.getSourceTransactionId());
+		stm.setInt(pos++, data.getSourceId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TestSecurityTransactionFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "src_system_c = ? AND src_trade_id_c = ? AND src_trx_id_c = ? AND source_id_i = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.src_system_c,t0.src_trade_id_c,t0.src_trx_id_c,t0.source_id_i,t0.exchange_code_c,t0.org_trade_id_c,t0.in_z,t0.out_z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*8);
+		result.append(databaseAlias).append(".").append("src_system_c");
+		result.append(",").append(databaseAlias).append(".").append("src_trade_id_c");
+		result.append(",").append(databaseAlias).append(".").append("src_trx_id_c");
+		result.append(",").append(databaseAlias).append(".").append("source_id_i");
+		result.append(",").append(databaseAlias).append(".").append("exchange_code_c");
+		result.append(",").append(databaseAlias).append(".").append("org_trade_id_c");
+		result.append(",").append(databaseAlias).append(".").append("in_z");
+		result.append(",").append(databaseAlias).append(".").append("out_z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestSecurityTransactionData inflateTestSecurityTransactionData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestSecurityTransactionData data = inflateTestSecurityTransactionPkData(rs, dt);
+		inflateNonPkTestSecurityTransactionData(5, data, rs, dt);
+		return data;
+	}
+
+	public TestSecurityTransactionData inflateTestSecurityTransactionPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestSecurityTransactionData _data = new TestSecurityTransactionData.TestSecurityTransactionDataOnHeap();
+		int _pos = 1;
+		_data.setSourceSystem(trimString(_rs.getString(_pos++)));
+		_data.setSourceTradeId(trimString(_rs.getString(_pos++)));
+		_data.setSourceTransactionId(trimString(_rs.getString(_pos++)));
+		_data.setSourceId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "sourceId");
+		return _data;
+	}
+
+	public void inflateNonPkTestSecurityTransactionData(int _pos, TestSecurityTransactionData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestSecurityTransactionData _data = _datax;
+			_data.setExchangeCode(trimString(_rs.getString(_pos++)));
+			_data.setOriginatingTradeId(trimString(_rs.getString(_pos++)));
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TestSecurityTransactionFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTestSecurityTransactionTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "SECURITY_TRANSACTION_TB";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TestSecurityTransactionData data = (TestSecurityTransactionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if (data.isExchangeCodeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getExchangeCode());
+		}
+
+		if (data.isOriginatingTradeIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getOriginatingTradeId());
+		}
+
+		if(data.isSourceSystemNull())
+		{
+			throwNullAttribute("sourceSystem");
+		}
+
+		stm.setString(pos++, data.getSourceSystem());
+		if(data.isSourceTradeIdNull())
+		{
+			throwNullAttribute("sourceTradeId");
+		}
+
+		stm.setString(pos++, data.getSourceTradeId());
+		if(data.isSourceTransactionIdNull())
+		{
+			throwNullAttribute("sourceTransactionId");
+		}
+
+		stm.setString(pos++, data.getSourceTransactionId());
+		stm.setInt(pos++, data.getSourceId());
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TestSecurityTransactionFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "exchange_code_c,org_trade_id_c,src_system_c,src_trade_id_c,src_trx_id_c,source_id_i,in_z,out_z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TestSecurityTransaction newObject = new TestSecurityTransaction(asOfDates[0]
+		);
+		newObject.zSetFromTestSecurityTransactionData((TestSecurityTransactionData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new NonAuditedTransactionalDataContainer(tx.getPerPortalTemporalContainer(TestSecurityTransactionFinder.getMithraObjectPortal(),
+			null)
+		,TestSecurityTransactionFinder.processingDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="out_z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestSecurityTransactionData data = (TestSecurityTransactionData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getSourceSystem());
+		stm.setString(pos++, data.getSourceTradeId());
+		stm.setString(pos++, data.getSourceTransactionId());
+		stm.setInt(pos++, data.getSourceId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, TestSecurityTransactionFinder.processingDate(),
+			null);
+	}
+}
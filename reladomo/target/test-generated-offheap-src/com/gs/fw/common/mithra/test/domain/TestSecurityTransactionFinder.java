@@ -0,0 +1,822 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestSecurityTransactionFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestSecurityTransaction";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestSecurityTransaction";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestSecurityTransaction");
+	private static final TestSecurityTransactionSingleFinder<TestSecurityTransaction, Object, TestSecurityTransaction> finder = new TestSecurityTransactionSingleFinder<TestSecurityTransaction, Object, TestSecurityTransaction>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestSecurityTransactionFinder.TestSecurityTransactionRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("exchangeCode");
+		finderMethodMap.addNormalAttributeName("originatingTradeId");
+		finderMethodMap.addNormalAttributeName("sourceSystem");
+		finderMethodMap.addNormalAttributeName("sourceTradeId");
+		finderMethodMap.addNormalAttributeName("sourceTransactionId");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	private static final Map<String, Object> sourceSystemProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		sourceSystemProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		sourceSystemProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	private static final Map<String, Object> sourceIdProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		sourceIdProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		sourceIdProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	private static final Map<String, Object> processingDateFromProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		processingDateFromProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		processingDateFromProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	private static final Map<String, Object> processingDateToProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		processingDateToProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		processingDateToProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	private static final Map<String, Object> processingDateProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		processingDateProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		processingDateProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestSecurityTransaction findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestSecurityTransaction findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestSecurityTransactionList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestSecurityTransactionList) finder.findMany(operation);
+	}
+
+	public static TestSecurityTransactionList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestSecurityTransactionList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestSecurityTransaction findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestSecurityTransaction) FinderUtils.findOne(found);
+	}
+
+	public static TestSecurityTransaction findByPrimaryKey(String sourceSystem, String sourceTradeId, String sourceTransactionId, int sourceId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(sourceSystem, sourceTradeId, sourceTransactionId, sourceId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestSecurityTransactionData _castedTargetData = (TestSecurityTransactionData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getSourceSystem()) && _bean.getO2AsString().equals(_castedTargetData.getSourceTradeId()) && _bean.getO3AsString().equals(_castedTargetData.getSourceTransactionId()) && _bean.getI1AsInteger() == _castedTargetData.getSourceId())
+			{
+				return TestSecurityTransactionFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsString())),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.offHeapHash(_bean.getO3AsString())),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static TestSecurityTransaction zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestSecurityTransaction) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestSecurityTransactionRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestSecurityTransaction, ParentOwnerType, ReturnType, ReturnListType, OwnerType> implements TestAbstractTransactionFinder<TestSecurityTransaction>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> exchangeCode;
+		private StringAttribute<ParentOwnerType> originatingTradeId;
+		private StringAttribute<ParentOwnerType> sourceSystem;
+		private StringAttribute<ParentOwnerType> sourceTradeId;
+		private StringAttribute<ParentOwnerType> sourceTransactionId;
+		private IntegerAttribute<ParentOwnerType> sourceId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestSecurityTransactionRelatedFinder()
+		{
+			super();
+		}
+
+		public TestSecurityTransactionRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSecurityTransactionFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestSecurityTransactionFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestSecurityTransactionFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestSecurityTransactionFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.exchangeCode();
+			attributes[1] = this.originatingTradeId();
+			attributes[2] = this.sourceSystem();
+			attributes[3] = this.sourceTradeId();
+			attributes[4] = this.sourceTransactionId();
+			attributes[5] = this.sourceId();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestSecurityTransaction findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestSecurityTransactionFinder.findOne(operation, false);
+		}
+
+		public TestSecurityTransaction findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestSecurityTransactionFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestSecurityTransaction> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestSecurityTransactionList((Operation) operation);
+		}
+
+		public MithraList<? extends TestSecurityTransaction> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestSecurityTransactionList result = (TestSecurityTransactionList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestSecurityTransaction> constructEmptyList()
+		{
+			return new TestSecurityTransactionList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -68464285;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> exchangeCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.exchangeCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("exchange_code_c","","exchangeCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,20,-1,-1,4,true, false) :
+					new MappedStringAttribute(TestSecurityTransactionFinder.exchangeCode(), this.mapper, this.zGetValueSelector());
+				this.exchangeCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> originatingTradeId()
+		{
+			StringAttribute<ParentOwnerType> result = this.originatingTradeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("org_trade_id_c","","originatingTradeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,24,-1,-1,15,true, false) :
+					new MappedStringAttribute(TestSecurityTransactionFinder.originatingTradeId(), this.mapper, this.zGetValueSelector());
+				this.originatingTradeId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> sourceSystem()
+		{
+			StringAttribute<ParentOwnerType> result = this.sourceSystem;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("src_system_c","","sourceSystem",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,sourceSystemProperties,true,false,8,-1,-1,6,true, false) :
+					new MappedStringAttribute(TestSecurityTransactionFinder.sourceSystem(), this.mapper, this.zGetValueSelector());
+				this.sourceSystem = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> sourceTradeId()
+		{
+			StringAttribute<ParentOwnerType> result = this.sourceTradeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("src_trade_id_c","","sourceTradeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,15,true, false) :
+					new MappedStringAttribute(TestSecurityTransactionFinder.sourceTradeId(), this.mapper, this.zGetValueSelector());
+				this.sourceTradeId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> sourceTransactionId()
+		{
+			StringAttribute<ParentOwnerType> result = this.sourceTransactionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("src_trx_id_c","","sourceTransactionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,20,true, false) :
+					new MappedStringAttribute(TestSecurityTransactionFinder.sourceTransactionId(), this.mapper, this.zGetValueSelector());
+				this.sourceTransactionId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("source_id_i","","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,sourceIdProperties,true,false,false,4,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestSecurityTransactionFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("in_z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,processingDateFromProperties,true,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestSecurityTransactionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestSecurityTransactionFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("out_z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,processingDateToProperties,true,false,36,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestSecurityTransactionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestSecurityTransactionFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,processingDateProperties,true,false,this.processingDateFrom(),this.processingDateTo(),TestSecurityTransactionFinder.processingDateInfinity,false,false,TestSecurityTransactionFinder.processingDateDefault,false,false) :
+					new MappedAsOfAttribute(TestSecurityTransactionFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestSecurityTransactionFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestSecurityTransactionFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestSecurityTransactionCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestSecurityTransactionRelatedFinder<ParentOwnerType, ReturnType, TestSecurityTransactionList, OwnerType>
+	{
+		public TestSecurityTransactionCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestSecurityTransactionCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestSecurityTransactionCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestSecurityTransactionCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestSecurityTransactionSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestSecurityTransactionRelatedFinder<ParentOwnerType, ReturnType, TestSecurityTransactionList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestSecurityTransactionSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestSecurityTransactionSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestSecurityTransaction other)
+		{
+			return this.sourceSystem().eq(other.getSourceSystem())
+			.and(this.sourceTradeId().eq(other.getSourceTradeId()))
+			.and(this.sourceTransactionId().eq(other.getSourceTransactionId()))
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestSecurityTransaction findByPrimaryKey(String sourceSystem, String sourceTradeId, String sourceTransactionId, int sourceId, Timestamp processingDate)
+		{
+			TestSecurityTransaction _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (sourceSystem != null && sourceTradeId != null && sourceTransactionId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(sourceSystem);
+				_bean.setO2(sourceTradeId);
+				_bean.setO3(sourceTransactionId);
+				_bean.setI1AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestSecurityTransaction) _related;
+			if (_related == null)
+			{
+				_op = this.sourceSystem().eq(sourceSystem).and(this.sourceTradeId().eq(sourceTradeId)).and(this.sourceTransactionId().eq(sourceTransactionId)).and(this.sourceId().eq(sourceId)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestSecurityTransactionSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestSecurityTransactionSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestSecurityTransactionSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to SECURITY_TRANSACTION_TB.exchange_code_c **/
+	public static StringAttribute<TestSecurityTransaction> exchangeCode()
+	{
+		return finder.exchangeCode();
+	}
+
+	/** maps to SECURITY_TRANSACTION_TB.org_trade_id_c **/
+	public static StringAttribute<TestSecurityTransaction> originatingTradeId()
+	{
+		return finder.originatingTradeId();
+	}
+
+	/** maps to SECURITY_TRANSACTION_TB.src_system_c **/
+	public static StringAttribute<TestSecurityTransaction> sourceSystem()
+	{
+		return finder.sourceSystem();
+	}
+
+	/** maps to SECURITY_TRANSACTION_TB.src_trade_id_c **/
+	public static StringAttribute<TestSecurityTransaction> sourceTradeId()
+	{
+		return finder.sourceTradeId();
+	}
+
+	/** maps to SECURITY_TRANSACTION_TB.src_trx_id_c **/
+	public static StringAttribute<TestSecurityTransaction> sourceTransactionId()
+	{
+		return finder.sourceTransactionId();
+	}
+
+	/** maps to SECURITY_TRANSACTION_TB.source_id_i **/
+	public static IntegerAttribute<TestSecurityTransaction> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	/** maps to SECURITY_TRANSACTION_TB.in_z **/
+	public static TimestampAttribute<TestSecurityTransaction> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to SECURITY_TRANSACTION_TB.out_z **/
+	public static TimestampAttribute<TestSecurityTransaction> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<TestSecurityTransaction> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(TestSecurityTransaction other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(sourceSystem());
+	}
+
+	public static TestSecurityTransactionSingleFinder<TestSecurityTransaction, Object, TestSecurityTransaction> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			sourceSystem()
+			, sourceTradeId()
+			, sourceTransactionId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			exchangeCode()
+			, sourceSystem()
+			, sourceTradeId()
+			, sourceTransactionId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestSecurityTransaction");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeDangerousNoLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
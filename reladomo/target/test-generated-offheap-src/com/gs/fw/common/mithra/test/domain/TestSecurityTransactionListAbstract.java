@@ -0,0 +1,175 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestSecurityTransactionListAbstract extends DelegatingList<TestSecurityTransaction> implements MithraDatedTransactionalList<TestSecurityTransaction>
+{
+	public TestSecurityTransactionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestSecurityTransactionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestSecurityTransactionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestSecurityTransactionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestSecurityTransaction[] elements()
+	{
+		TestSecurityTransaction[] result = new TestSecurityTransaction[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestSecurityTransactionList intersection(TestSecurityTransactionList another)
+	{
+		return (TestSecurityTransactionList)super.intersection(another);
+	}
+
+	public TestSecurityTransaction getTestSecurityTransactionAt(int index)
+	{
+		return (TestSecurityTransaction)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestSecurityTransactionFinder.getMithraObjectPortal();
+	}
+
+	public TestSecurityTransactionList getNonPersistentCopy()
+	{
+		TestSecurityTransactionList result = new TestSecurityTransactionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestSecurityTransactionList asAdhoc()
+	{
+		return (TestSecurityTransactionList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestSecurityTransaction> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestSecurityTransactionList merge(MithraTransactionalList<TestSecurityTransaction> incoming, TopLevelMergeOptions<TestSecurityTransaction> mergeOptions)
+	{
+		return (TestSecurityTransactionList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestSecurityTransactionList getDetachedCopy()
+	{
+		TestSecurityTransactionList result = new TestSecurityTransactionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setExchangeCode(String newValue)
+	{
+		zSetString(TestSecurityTransactionFinder.exchangeCode(), newValue);
+	}
+
+	public void setOriginatingTradeId(String newValue)
+	{
+		zSetString(TestSecurityTransactionFinder.originatingTradeId(), newValue);
+	}
+
+	public void setSourceSystem(String newValue)
+	{
+		zSetString(TestSecurityTransactionFinder.sourceSystem(), newValue);
+	}
+
+	public void setSourceTradeId(String newValue)
+	{
+		zSetString(TestSecurityTransactionFinder.sourceTradeId(), newValue);
+	}
+
+	public void setSourceTransactionId(String newValue)
+	{
+		zSetString(TestSecurityTransactionFinder.sourceTransactionId(), newValue);
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(TestSecurityTransactionFinder.sourceId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestSecurityTransactionFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestSecurityTransactionFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,340 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestSellSideDealDetailAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestSellSideDealDetail.class.getName());
+	private static final RelationshipHashStrategy forbankingDealDetail = new BankingDealDetailRhs();
+	private static final class BankingDealDetailRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestSellSideDealDetailData _castedSrcData = (TestSellSideDealDetailData) _srcData;
+			TestBankingDealDetailImplData _castedTargetData = (TestBankingDealDetailImplData) _targetData;
+			if (_castedSrcData.getCheckId() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestSellSideDealDetailData _castedSrcData = (TestSellSideDealDetailData) _srcData;
+			return HashUtil.hash(_castedSrcData.getCheckId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public TestSellSideDealDetailAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestSellSideDealDetail getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestSellSideDealDetail) super.getDetachedCopy();
+	}
+
+	public TestSellSideDealDetail getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestSellSideDealDetail result = (TestSellSideDealDetail) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestSellSideDealDetail copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestSellSideDealDetail) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestSellSideDealDetail zFindOriginal()
+	{
+		TestSellSideDealDetailData data = (TestSellSideDealDetailData) this.currentData;
+		Operation op;
+		op = TestSellSideDealDetailFinder.checkId().eq(data.getCheckId());
+		return TestSellSideDealDetailFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestSellSideDealDetailData();
+	}
+
+	protected void zSetFromTestSellSideDealDetailData( TestSellSideDealDetailData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestSellSideDealDetailData( TestSellSideDealDetailData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCheckIdNull()
+	{
+		return ((TestSellSideDealDetailData) this.zSynchronizedGetData()).isCheckIdNull();
+	}
+
+	public int getCheckId()
+	{
+		TestSellSideDealDetailData data = (TestSellSideDealDetailData) this.zSynchronizedGetData();
+		return data.getCheckId();
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(TestSellSideDealDetailFinder.checkId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestSellSideDealDetailData _newData = (TestSellSideDealDetailData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestSellSideDealDetailData _newData = (TestSellSideDealDetailData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSellSideDealDetailData _newData = (TestSellSideDealDetailData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestBankingDealDetailImpl.checkId = this.checkId</pre>
+	* @see TestBankingDealDetailImpl#getSellSideDealDetail() reverse relationship TestBankingDealDetailImpl.getSellSideDealDetail()
+	* @return The banking deal detail
+	*/
+	public TestBankingDealDetailImpl getBankingDealDetail()
+	{
+		TestBankingDealDetailImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestSellSideDealDetailData _data = (TestSellSideDealDetailData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestBankingDealDetailImplFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forbankingDealDetail, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestBankingDealDetailImpl) _related;
+				if (_related == null)
+				{
+					_op = TestBankingDealDetailImplFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getBankingDealDetail() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestBankingDealDetailImpl) _data.getBankingDealDetail();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestBankingDealDetailImplFinder.checkId().eq(_data.getCheckId());
+					_result = TestBankingDealDetailImplFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (TestSellSideDealDetailData) _behavior.getCurrentDataForWrite(this);
+				_data.setBankingDealDetail(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestBankingDealDetailImpl) _data.getBankingDealDetail();
+			if (_result == null)
+			{
+				{
+					_op = TestBankingDealDetailImplFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestBankingDealDetailImplFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setBankingDealDetail(TestBankingDealDetailImpl bankingDealDetail)
+	{
+		((TestBankingDealDetailImpl)bankingDealDetail).setSellSideDealDetail((TestSellSideDealDetail)this);
+	}
+
+	public void zSetParentContainerbankingDealDetail(TestBankingDealDetailImplAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSellSideDealDetailData _data = (TestSellSideDealDetailData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setBankingDealDetail(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TestSellSideDealDetail zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSellSideDealDetail original = (TestSellSideDealDetail) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestSellSideDealDetailFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestSellSideDealDetailFinder.getMithraObjectPortal();
+	}
+
+	public TestSellSideDealDetail getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestSellSideDealDetailFinder.checkId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestSellSideDealDetailAbstract result = (TestSellSideDealDetailAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
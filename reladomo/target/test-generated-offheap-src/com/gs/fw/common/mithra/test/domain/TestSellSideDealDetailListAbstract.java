@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestSellSideDealDetailListAbstract extends DelegatingList<TestSellSideDealDetail> implements MithraTransactionalList<TestSellSideDealDetail>
+{
+	public TestSellSideDealDetailListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestSellSideDealDetailListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestSellSideDealDetailListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestSellSideDealDetailListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestSellSideDealDetail[] elements()
+	{
+		TestSellSideDealDetail[] result = new TestSellSideDealDetail[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestSellSideDealDetailList intersection(TestSellSideDealDetailList another)
+	{
+		return (TestSellSideDealDetailList)super.intersection(another);
+	}
+
+	public TestSellSideDealDetail getTestSellSideDealDetailAt(int index)
+	{
+		return (TestSellSideDealDetail)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestBankingDealDetailImpl.checkId = this.checkId</pre>
+	* @see TestBankingDealDetailImpl#getSellSideDealDetail() reverse relationship TestBankingDealDetailImpl.getSellSideDealDetail()
+	* @return The banking deal detail
+	*/
+	public TestBankingDealDetailImplList getBankingDealDetails()
+	{
+		return (TestBankingDealDetailImplList) this.zGetDelegated().resolveRelationship(this, TestSellSideDealDetailFinder.bankingDealDetail());
+	}
+
+	public void zSetParentContainerbankingDealDetail(TestBankingDealDetailImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			TestSellSideDealDetail item = this.getTestSellSideDealDetailAt(i);
+			item.zSetParentContainerbankingDealDetail(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestSellSideDealDetailFinder.getMithraObjectPortal();
+	}
+
+	public TestSellSideDealDetailList getNonPersistentCopy()
+	{
+		TestSellSideDealDetailList result = new TestSellSideDealDetailList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestSellSideDealDetailList asAdhoc()
+	{
+		return (TestSellSideDealDetailList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestSellSideDealDetail> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestSellSideDealDetailList merge(MithraTransactionalList<TestSellSideDealDetail> incoming, TopLevelMergeOptions<TestSellSideDealDetail> mergeOptions)
+	{
+		return (TestSellSideDealDetailList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestSellSideDealDetailList getDetachedCopy()
+	{
+		TestSellSideDealDetailList result = new TestSellSideDealDetailList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(TestSellSideDealDetailFinder.checkId(), newValue);
+	}
+}
@@ -0,0 +1,904 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestSubClassData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 36;
+	boolean isCommonValueNull();
+	String getCommonValue();
+	void setCommonValue(String value);
+	void setCommonValueNull();
+	int zGetCommonValueAsInt();
+	boolean isExchangeCodeNull();
+	String getExchangeCode();
+	void setExchangeCode(String value);
+	void setExchangeCodeNull();
+	int zGetExchangeCodeAsInt();
+	boolean isOriginatingTradeIdNull();
+	String getOriginatingTradeId();
+	void setOriginatingTradeId(String value);
+	void setOriginatingTradeIdNull();
+	int zGetOriginatingTradeIdAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isSourceIdNull();
+	int getSourceId();
+	void setSourceId(int value);
+	void setSourceIdNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TestSubClassDataOnHeap implements TestSubClassData
+	{
+		private byte _dataVersion;
+		private String commonValue;
+		private String exchangeCode;
+		private String originatingTradeId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int sourceId;
+		public boolean isCommonValueNull()
+		{
+			return this.getCommonValue() == null;
+		}
+
+		public boolean isExchangeCodeNull()
+		{
+			return this.getExchangeCode() == null;
+		}
+
+		public boolean isOriginatingTradeIdNull()
+		{
+			return this.getOriginatingTradeId() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isSourceIdNull()
+		{
+			return false;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.commonValue);
+			out.writeObject(this.exchangeCode);
+			out.writeObject(this.originatingTradeId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TestSubClassFinder.processingDate().getInfinityDate());
+			out.writeInt(this.sourceId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getCommonValue()
+		{
+			return this.commonValue;
+		}
+
+		public int zGetCommonValueAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(commonValue);
+		}
+
+		public void setCommonValue(String value)
+		{
+			this.commonValue = StringPool.getInstance().getOrAddToCache(value, TestSubClassFinder.isFullCache());
+		}
+
+		public void setCommonValueNull()
+		{
+			this.setCommonValue(null);
+		}
+
+		public String getExchangeCode()
+		{
+			return this.exchangeCode;
+		}
+
+		public int zGetExchangeCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(exchangeCode);
+		}
+
+		public void setExchangeCode(String value)
+		{
+			this.exchangeCode = StringPool.getInstance().getOrAddToCache(value, TestSubClassFinder.isFullCache());
+		}
+
+		public void setExchangeCodeNull()
+		{
+			this.setExchangeCode(null);
+		}
+
+		public String getOriginatingTradeId()
+		{
+			return this.originatingTradeId;
+		}
+
+		public int zGetOriginatingTradeIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(originatingTradeId);
+		}
+
+		public void setOriginatingTradeId(String value)
+		{
+			this.originatingTradeId = value;
+		}
+
+		public void setOriginatingTradeIdNull()
+		{
+			this.setOriginatingTradeId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestSubClassFinder.isFullCache(), TestSubClassFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestSubClassFinder.isFullCache(), TestSubClassFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getSourceId()
+		{
+			return this.sourceId;
+		}
+
+		public void setSourceId(int value)
+		{
+			this.sourceId = value;
+		}
+
+		public void setSourceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestSubClassDataOnHeap copy, boolean withRelationships)
+		{
+			copy.commonValue = this.commonValue;
+			copy.exchangeCode = this.exchangeCode;
+			copy.originatingTradeId = this.originatingTradeId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.sourceId = this.sourceId;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.commonValue = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSubClassFinder.isFullCache());
+			this.exchangeCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSubClassFinder.isFullCache());
+			this.originatingTradeId = (String)in.readObject();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestSubClassFinder.isFullCache(), TestSubClassFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestSubClassFinder.processingDate().getInfinityDate()), TestSubClassFinder.isFullCache(), TestSubClassFinder.isOffHeap());
+			this.sourceId = in.readInt();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestSubClassData otherData = (TestSubClassData) other;
+			if (getSourceId() != otherData.getSourceId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TestSubClassFinder.processingDate().getInfinityDate());
+			out.writeInt(this.sourceId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestSubClassFinder.isFullCache(), TestSubClassFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestSubClassFinder.processingDate().getInfinityDate()), TestSubClassFinder.isFullCache(), TestSubClassFinder.isOffHeap());
+			this.sourceId = in.readInt();
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestSubClassDataOffHeap data = new TestSubClassDataOffHeap();
+			data.setCommonValue(this.getCommonValue());
+			data.setExchangeCode(this.getExchangeCode());
+			data.setOriginatingTradeId(this.getOriginatingTradeId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setSourceId(this.getSourceId());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestSubClassData testSubClassData = (TestSubClassData) newData;
+			this.setCommonValue(testSubClassData.getCommonValue());
+			this.setExchangeCode(testSubClassData.getExchangeCode());
+			this.setOriginatingTradeId(testSubClassData.getOriginatingTradeId());
+			this.setProcessingDateFrom(testSubClassData.getProcessingDateFrom());
+			this.setProcessingDateTo(testSubClassData.getProcessingDateTo());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestSubClassData other = (TestSubClassData) newData;
+			if (!isCommonValueNull() ? !getCommonValue().equals(other.getCommonValue()) : !other.isCommonValueNull())
+			{
+				return true;
+			}
+
+			if (!isExchangeCodeNull() ? !getExchangeCode().equals(other.getExchangeCode()) : !other.isExchangeCodeNull())
+			{
+				return true;
+			}
+
+			if (!isOriginatingTradeIdNull() ? !getOriginatingTradeId().equals(other.getOriginatingTradeId()) : !other.isOriginatingTradeIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestSubClassDataOnHeap copy = new TestSubClassDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestSubClassDataOnHeap copy = new TestSubClassDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "sourceId: "+(""+getSourceId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestSubClassData otherData = (TestSubClassData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestSubClassData otherData = (TestSubClassData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSubClassData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestSubClassFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestSubClassFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSubClassData";
+		}
+	}
+
+	public class TestSubClassDataOffHeap extends MithraOffHeapDataObject implements TestSubClassData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestSubClassDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 20);
+			this.zSetTimestamp(_storage, value, 28);
+		}
+
+		public TestSubClassDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isCommonValueNull()
+		{
+			return zIsStringNull(_storage, 8);
+		}
+
+		public boolean isExchangeCodeNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isOriginatingTradeIdNull()
+		{
+			return zIsStringNull(_storage, 16);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 20);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public boolean isSourceIdNull()
+		{
+			return false;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getCommonValue());
+			out.writeObject(this.getExchangeCode());
+			out.writeObject(this.getOriginatingTradeId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestSubClassFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getSourceId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String getCommonValue()
+		{
+			return zGetString(_storage, 8);
+		}
+
+		public int zGetCommonValueAsInt()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setCommonValue(String value)
+		{
+			zSetString(_storage, value, 8);
+		}
+
+		public void setCommonValueNull()
+		{
+			this.setCommonValue(null);
+		}
+
+		public String getExchangeCode()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetExchangeCodeAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setExchangeCode(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setExchangeCodeNull()
+		{
+			this.setExchangeCode(null);
+		}
+
+		public String getOriginatingTradeId()
+		{
+			return zGetString(_storage, 16);
+		}
+
+		public int zGetOriginatingTradeIdAsInt()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setOriginatingTradeId(String value)
+		{
+			zSetString(_storage, value, 16);
+		}
+
+		public void setOriginatingTradeIdNull()
+		{
+			this.setOriginatingTradeId(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 20);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 20);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 20);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getSourceId()
+		{
+			return zGetInteger(_storage, 4);
+		}
+
+		public void setSourceId(int value)
+		{
+			zSetInteger(_storage, value, 4, -1, -1);
+		}
+
+		public void setSourceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestSubClassDataOnHeap copy, boolean withRelationships)
+		{
+			copy.commonValue = this.getCommonValue();
+			copy.exchangeCode = this.getExchangeCode();
+			copy.originatingTradeId = this.getOriginatingTradeId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.sourceId = this.getSourceId();
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetString(_storage, (String)in.readObject(), 8);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetInteger(_storage, in.readInt(), 4, -1, -1, false);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestSubClassDataOffHeap)
+			{
+				final TestSubClassDataOffHeap otherData = (TestSubClassDataOffHeap) other;
+				if (this.zGetInteger(_storage, 4) != otherData.zGetInteger(_storage, 4))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestSubClassData otherData = (TestSubClassData) other;
+			if (getSourceId() != otherData.getSourceId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TestSubClassFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getSourceId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetInteger(_storage, in.readInt(), 4, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestSubClassData testSubClassData = (TestSubClassData) newData;
+			this.setCommonValue(testSubClassData.getCommonValue());
+			this.setExchangeCode(testSubClassData.getExchangeCode());
+			this.setOriginatingTradeId(testSubClassData.getOriginatingTradeId());
+			this.setProcessingDateFrom(testSubClassData.getProcessingDateFrom());
+			this.setProcessingDateTo(testSubClassData.getProcessingDateTo());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestSubClassData other = (TestSubClassData) newData;
+			if (!isCommonValueNull() ? !getCommonValue().equals(other.getCommonValue()) : !other.isCommonValueNull())
+			{
+				return true;
+			}
+
+			if (!isExchangeCodeNull() ? !getExchangeCode().equals(other.getExchangeCode()) : !other.isExchangeCodeNull())
+			{
+				return true;
+			}
+
+			if (!isOriginatingTradeIdNull() ? !getOriginatingTradeId().equals(other.getOriginatingTradeId()) : !other.isOriginatingTradeIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestSubClassDataOnHeap copy = new TestSubClassDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestSubClassDataOnHeap copy = new TestSubClassDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "sourceId: "+(""+getSourceId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestSubClassData otherData = (TestSubClassData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestSubClassData otherData = (TestSubClassData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSubClassData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestSubClassFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestSubClassFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSubClassData";
+		}
+	}
+}
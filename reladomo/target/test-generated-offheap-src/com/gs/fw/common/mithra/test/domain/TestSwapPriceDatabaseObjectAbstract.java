@@ -0,0 +1,595 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestSwapPriceDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ACMAP_C,DEAL_ID_C,CURRENCY_C,SECURITY_TYPE_C,NPV_MODEL_NAME_C,GRID_MODEL_NAME_C,NPV_PRICE_F,GRID_PRICE_F,FEED_NUMBER";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ACMAP_C,t0.DEAL_ID_C,t0.CURRENCY_C,t0.SECURITY_TYPE_C,t0.NPV_MODEL_NAME_C,t0.GRID_MODEL_NAME_C,t0.NPV_PRICE_F,t0.GRID_PRICE_F,t0.FEED_NUMBER";
+	private static final String PK_WITH_ALIAS = "t0.SOURCE_I = ? AND t0.ACCT_NBR_C = ? AND t0.PRODUCT_GSN_C = ? AND t0.SWAP_REF_NBR_C = ? AND t0.LEG_ID_C = ? AND t0.THRU_Z = ? AND t0.DETAIL_NBR_I = ?";
+	private static final String PK_INDEX_COLS = "SOURCE_I,ACCT_NBR_C,PRODUCT_GSN_C,SWAP_REF_NBR_C,LEG_ID_C,THRU_Z,DETAIL_NBR_I";
+	protected TestSwapPriceDatabaseObjectAbstract()
+	{
+		super("TestSwapPrice", "com.gs.fw.common.mithra.test.domain.TestSwapPriceFinder",
+			16, 16,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestSwapPriceFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestSwapPriceFinder.getFinderInstance();
+	}
+
+	public static TestSwapPriceData allocateOnHeapData()
+	{
+		return new TestSwapPriceData();
+	}
+
+	public static TestSwapPriceData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestSwapPriceData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestSwapPriceData data = new TestSwapPriceData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(TestSwapPriceFinder.getPrimaryKeyAttributes(), this, TestSwapPriceFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(TestSwapPriceFinder.getPrimaryKeyAttributes(), this, TestSwapPriceFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(TestSwapPriceFinder.getPrimaryKeyAttributes(), this, TestSwapPriceFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(TestSwapPriceFinder.getPrimaryKeyAttributes(), this, TestSwapPriceFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestSwapPriceFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestSwapPriceFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TestSwapPrice.zConfigFullTx();
+		}
+		else
+		{
+			TestSwapPrice.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestSwapPriceData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestSwapPriceData(1, (TestSwapPriceData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestSwapPricePkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestSwapPriceTableName();
+	}
+
+	public String getTestSwapPriceTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestSwapPriceData data = (TestSwapPriceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getSourceId());
+		stm.setString(pos++, data.getAccountId());
+		stm.setString(pos++, data.getProductGsNumber());
+		stm.setString(pos++, data.getReferenceNumber());
+		stm.setString(pos++, data.getLegId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		stm.setInt(pos++, data.getDetailNumber());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "SOURCE_I = ? AND ACCT_NBR_C = ? AND PRODUCT_GSN_C = ? AND SWAP_REF_NBR_C = ? AND LEG_ID_C = ? AND THRU_Z = ? AND DETAIL_NBR_I = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SOURCE_I,t0.ACCT_NBR_C,t0.PRODUCT_GSN_C,t0.SWAP_REF_NBR_C,t0.LEG_ID_C,t0.THRU_Z,t0.DETAIL_NBR_I,t0.ACMAP_C,t0.DEAL_ID_C,t0.CURRENCY_C,t0.SECURITY_TYPE_C,t0.NPV_MODEL_NAME_C,t0.GRID_MODEL_NAME_C,t0.NPV_PRICE_F,t0.GRID_PRICE_F,t0.FEED_NUMBER";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*16);
+		result.append(databaseAlias).append(".").append("SOURCE_I");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("PRODUCT_GSN_C");
+		result.append(",").append(databaseAlias).append(".").append("SWAP_REF_NBR_C");
+		result.append(",").append(databaseAlias).append(".").append("LEG_ID_C");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("DETAIL_NBR_I");
+		result.append(",").append(databaseAlias).append(".").append("ACMAP_C");
+		result.append(",").append(databaseAlias).append(".").append("DEAL_ID_C");
+		result.append(",").append(databaseAlias).append(".").append("CURRENCY_C");
+		result.append(",").append(databaseAlias).append(".").append("SECURITY_TYPE_C");
+		result.append(",").append(databaseAlias).append(".").append("NPV_MODEL_NAME_C");
+		result.append(",").append(databaseAlias).append(".").append("GRID_MODEL_NAME_C");
+		result.append(",").append(databaseAlias).append(".").append("NPV_PRICE_F");
+		result.append(",").append(databaseAlias).append(".").append("GRID_PRICE_F");
+		result.append(",").append(databaseAlias).append(".").append("FEED_NUMBER");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestSwapPriceData inflateTestSwapPriceData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestSwapPriceData data = inflateTestSwapPricePkData(rs, dt);
+		inflateNonPkTestSwapPriceData(8, data, rs, dt);
+		return data;
+	}
+
+	public TestSwapPriceData inflateTestSwapPricePkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestSwapPriceData _data = new TestSwapPriceData();
+		int _pos = 1;
+		_data.setSourceId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "sourceId");
+		_data.setAccountId(trimString(_rs.getString(_pos++)));
+		_data.setProductGsNumber(trimString(_rs.getString(_pos++)));
+		_data.setReferenceNumber(trimString(_rs.getString(_pos++)));
+		_data.setLegId(trimString(_rs.getString(_pos++)));
+		Timestamp businessDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setBusinessDate(businessDatetimestampValue);
+		_data.setDetailNumber(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "detailNumber");
+		return _data;
+	}
+
+	public void inflateNonPkTestSwapPriceData(int _pos, TestSwapPriceData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestSwapPriceData _data = _datax;
+			_data.setAcmapCode(trimString(_rs.getString(_pos++)));
+			_data.setDealId(trimString(_rs.getString(_pos++)));
+			_data.setCurrency(trimString(_rs.getString(_pos++)));
+			_data.setSecurityType(trimString(_rs.getString(_pos++)));
+			_data.setNpvModelName((_rs.getString(_pos++)));
+			_data.setGridModelName(trimString(_rs.getString(_pos++)));
+			_data.setNpvValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNpvValueNull();
+			}
+
+			_data.setGridValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setGridValueNull();
+			}
+
+			_data.setFeedNumber(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFeedNumberNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "SWAP_PRICES";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TestSwapPriceData data = (TestSwapPriceData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getSourceId());
+		if (data.isAcmapCodeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAcmapCode());
+		}
+
+		if(data.isAccountIdNull())
+		{
+			throwNullAttribute("accountId");
+		}
+
+		stm.setString(pos++, data.getAccountId());
+		if(data.isProductGsNumberNull())
+		{
+			throwNullAttribute("productGsNumber");
+		}
+
+		stm.setString(pos++, data.getProductGsNumber());
+		if (data.isDealIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getDealId());
+		}
+
+		if(data.isReferenceNumberNull())
+		{
+			throwNullAttribute("referenceNumber");
+		}
+
+		stm.setString(pos++, data.getReferenceNumber());
+		if(data.isLegIdNull())
+		{
+			throwNullAttribute("legId");
+		}
+
+		stm.setString(pos++, data.getLegId());
+		if(data.isBusinessDateNull())
+		{
+			throwNullAttribute("businessDate");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDate(), false, conversionTimeZone);
+		pos++;
+		stm.setInt(pos++, data.getDetailNumber());
+		if (data.isCurrencyNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getCurrency());
+		}
+
+		if (data.isSecurityTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getSecurityType());
+		}
+
+		if (data.isNpvModelNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getNpvModelName());
+		}
+
+		if (data.isGridModelNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getGridModelName());
+		}
+
+		if (data.isNpvValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getNpvValue());
+		}
+
+		if (data.isGridValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getGridValue());
+		}
+
+		if (data.isFeedNumberNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getFeedNumber());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "SOURCE_I,ACMAP_C,ACCT_NBR_C,PRODUCT_GSN_C,DEAL_ID_C,SWAP_REF_NBR_C,LEG_ID_C,THRU_Z,DETAIL_NBR_I,CURRENCY_C,SECURITY_TYPE_C,NPV_MODEL_NAME_C,GRID_MODEL_NAME_C,NPV_PRICE_F,GRID_PRICE_F,FEED_NUMBER";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		TestSwapPrice newObject = new TestSwapPrice();
+		newObject.zSetFromTestSwapPriceData((TestSwapPriceData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.SOURCE_I,t0.ACCT_NBR_C,t0.PRODUCT_GSN_C,t0.SWAP_REF_NBR_C,t0.LEG_ID_C,t0.THRU_Z,t0.DETAIL_NBR_I";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*16);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SOURCE_I");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ACCT_NBR_C");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("PRODUCT_GSN_C");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SWAP_REF_NBR_C");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("LEG_ID_C");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("THRU_Z");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DETAIL_NBR_I");
+		return result.toString();
+	}
+}
@@ -0,0 +1,895 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestSwapPriceFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestSwapPrice";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestSwapPrice";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestSwapPrice");
+	private static final TestSwapPriceSingleFinder<TestSwapPrice, Object, TestSwapPrice> finder = new TestSwapPriceSingleFinder<TestSwapPrice, Object, TestSwapPrice>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestSwapPriceFinder.TestSwapPriceRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("productGsNumber");
+		finderMethodMap.addNormalAttributeName("dealId");
+		finderMethodMap.addNormalAttributeName("referenceNumber");
+		finderMethodMap.addNormalAttributeName("legId");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("detailNumber");
+		finderMethodMap.addNormalAttributeName("currency");
+		finderMethodMap.addNormalAttributeName("securityType");
+		finderMethodMap.addNormalAttributeName("npvModelName");
+		finderMethodMap.addNormalAttributeName("gridModelName");
+		finderMethodMap.addNormalAttributeName("npvValue");
+		finderMethodMap.addNormalAttributeName("gridValue");
+		finderMethodMap.addNormalAttributeName("feedNumber");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestSwapPrice findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestSwapPrice findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestSwapPriceList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestSwapPriceList) finder.findMany(operation);
+	}
+
+	public static TestSwapPriceList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestSwapPriceList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestSwapPrice findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestSwapPrice) FinderUtils.findOne(found);
+	}
+
+	public static TestSwapPrice findByPrimaryKey(long sourceId, String accountId, String productGsNumber, String referenceNumber, String legId, Timestamp businessDate, int detailNumber)
+	{
+		return finder.findByPrimaryKey(sourceId, accountId, productGsNumber, referenceNumber, legId, businessDate, detailNumber);
+	}
+
+	public static TestSwapPrice zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestSwapPrice) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestSwapPriceRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestSwapPrice, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> sourceId;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		private StringAttribute<ParentOwnerType> accountId;
+		private StringAttribute<ParentOwnerType> productGsNumber;
+		private StringAttribute<ParentOwnerType> dealId;
+		private StringAttribute<ParentOwnerType> referenceNumber;
+		private StringAttribute<ParentOwnerType> legId;
+		private TimestampAttribute<ParentOwnerType> businessDate;
+		private IntegerAttribute<ParentOwnerType> detailNumber;
+		private StringAttribute<ParentOwnerType> currency;
+		private StringAttribute<ParentOwnerType> securityType;
+		private StringAttribute<ParentOwnerType> npvModelName;
+		private StringAttribute<ParentOwnerType> gridModelName;
+		private DoubleAttribute<ParentOwnerType> npvValue;
+		private DoubleAttribute<ParentOwnerType> gridValue;
+		private IntegerAttribute<ParentOwnerType> feedNumber;
+		public TestSwapPriceRelatedFinder()
+		{
+			super();
+		}
+
+		public TestSwapPriceRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSwapPriceFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestSwapPriceFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestSwapPriceFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestSwapPriceFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[16];
+			attributes[0] = this.sourceId();
+			attributes[1] = this.acmapCode();
+			attributes[2] = this.accountId();
+			attributes[3] = this.productGsNumber();
+			attributes[4] = this.dealId();
+			attributes[5] = this.referenceNumber();
+			attributes[6] = this.legId();
+			attributes[7] = this.businessDate();
+			attributes[8] = this.detailNumber();
+			attributes[9] = this.currency();
+			attributes[10] = this.securityType();
+			attributes[11] = this.npvModelName();
+			attributes[12] = this.gridModelName();
+			attributes[13] = this.npvValue();
+			attributes[14] = this.gridValue();
+			attributes[15] = this.feedNumber();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestSwapPrice findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestSwapPriceFinder.findOne(operation, false);
+		}
+
+		public TestSwapPrice findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestSwapPriceFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestSwapPrice> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestSwapPriceList((Operation) operation);
+		}
+
+		public MithraList<? extends TestSwapPrice> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestSwapPriceList result = (TestSwapPriceList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestSwapPrice> constructEmptyList()
+		{
+			return new TestSwapPriceList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1364752450;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> sourceId()
+		{
+			LongAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("SOURCE_I","","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(TestSwapPriceFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACMAP_C","","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,5,true, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_NBR_C","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.accountId(), this.mapper, this.zGetValueSelector());
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productGsNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.productGsNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PRODUCT_GSN_C","","productGsNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.productGsNumber(), this.mapper, this.zGetValueSelector());
+				this.productGsNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> dealId()
+		{
+			StringAttribute<ParentOwnerType> result = this.dealId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DEAL_ID_C","","dealId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,35,true, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.dealId(), this.mapper, this.zGetValueSelector());
+				this.dealId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> referenceNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.referenceNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("SWAP_REF_NBR_C","","referenceNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,35,true, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.referenceNumber(), this.mapper, this.zGetValueSelector());
+				this.referenceNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> legId()
+		{
+			StringAttribute<ParentOwnerType> result = this.legId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LEG_ID_C","","legId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,35,true, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.legId(), this.mapper, this.zGetValueSelector());
+				this.legId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TestSwapPriceFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> detailNumber()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.detailNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("DETAIL_NBR_I","","detailNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestSwapPriceFinder.detailNumber(), this.mapper, this.zGetValueSelector());
+				this.detailNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> currency()
+		{
+			StringAttribute<ParentOwnerType> result = this.currency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CURRENCY_C","","currency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,3,true, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.currency(), this.mapper, this.zGetValueSelector());
+				this.currency = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> securityType()
+		{
+			StringAttribute<ParentOwnerType> result = this.securityType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("SECURITY_TYPE_C","","securityType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.securityType(), this.mapper, this.zGetValueSelector());
+				this.securityType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> npvModelName()
+		{
+			StringAttribute<ParentOwnerType> result = this.npvModelName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NPV_MODEL_NAME_C","","npvModelName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.npvModelName(), this.mapper, this.zGetValueSelector());
+				this.npvModelName = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> gridModelName()
+		{
+			StringAttribute<ParentOwnerType> result = this.gridModelName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("GRID_MODEL_NAME_C","","gridModelName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(TestSwapPriceFinder.gridModelName(), this.mapper, this.zGetValueSelector());
+				this.gridModelName = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> npvValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.npvValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NPV_PRICE_F","","npvValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(TestSwapPriceFinder.npvValue(), this.mapper, this.zGetValueSelector());
+				this.npvValue = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> gridValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.gridValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("GRID_PRICE_F","","gridValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(TestSwapPriceFinder.gridValue(), this.mapper, this.zGetValueSelector());
+				this.gridValue = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> feedNumber()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.feedNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("FEED_NUMBER","","feedNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestSwapPriceFinder.feedNumber(), this.mapper, this.zGetValueSelector());
+				this.feedNumber = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestSwapPriceFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestSwapPriceFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestSwapPriceCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestSwapPriceRelatedFinder<ParentOwnerType, ReturnType, TestSwapPriceList, OwnerType>
+	{
+		public TestSwapPriceCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestSwapPriceCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestSwapPriceCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestSwapPriceCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestSwapPriceSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestSwapPriceRelatedFinder<ParentOwnerType, ReturnType, TestSwapPriceList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestSwapPriceSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestSwapPriceSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestSwapPrice other)
+		{
+			return this.sourceId().eq(other.getSourceId())
+			.and(this.accountId().eq(other.getAccountId()))
+			.and(this.productGsNumber().eq(other.getProductGsNumber()))
+			.and(this.referenceNumber().eq(other.getReferenceNumber()))
+			.and(this.legId().eq(other.getLegId()))
+			.and(this.businessDate().eq(other.getBusinessDate()))
+			.and(this.detailNumber().eq(other.getDetailNumber()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestSwapPrice findByPrimaryKey(long sourceId, String accountId, String productGsNumber, String referenceNumber, String legId, Timestamp businessDate, int detailNumber)
+		{
+			TestSwapPrice _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (!(_related instanceof NulledRelation)) _result = (TestSwapPrice) _related;
+			if (_related == null)
+			{
+				_op = this.sourceId().eq(sourceId).and(this.accountId().eq(accountId)).and(this.productGsNumber().eq(productGsNumber)).and(this.referenceNumber().eq(referenceNumber)).and(this.legId().eq(legId)).and(this.businessDate().eq(businessDate)).and(this.detailNumber().eq(detailNumber));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestSwapPriceSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestSwapPriceSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestSwapPriceSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to SWAP_PRICES.SOURCE_I **/
+	public static LongAttribute<TestSwapPrice> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	/** maps to SWAP_PRICES.ACMAP_C **/
+	public static StringAttribute<TestSwapPrice> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	/** maps to SWAP_PRICES.ACCT_NBR_C **/
+	public static StringAttribute<TestSwapPrice> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to SWAP_PRICES.PRODUCT_GSN_C **/
+	public static StringAttribute<TestSwapPrice> productGsNumber()
+	{
+		return finder.productGsNumber();
+	}
+
+	/** maps to SWAP_PRICES.DEAL_ID_C **/
+	public static StringAttribute<TestSwapPrice> dealId()
+	{
+		return finder.dealId();
+	}
+
+	/** maps to SWAP_PRICES.SWAP_REF_NBR_C **/
+	public static StringAttribute<TestSwapPrice> referenceNumber()
+	{
+		return finder.referenceNumber();
+	}
+
+	/** maps to SWAP_PRICES.LEG_ID_C **/
+	public static StringAttribute<TestSwapPrice> legId()
+	{
+		return finder.legId();
+	}
+
+	/** maps to SWAP_PRICES.THRU_Z **/
+	public static TimestampAttribute<TestSwapPrice> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	/** maps to SWAP_PRICES.DETAIL_NBR_I **/
+	public static IntegerAttribute<TestSwapPrice> detailNumber()
+	{
+		return finder.detailNumber();
+	}
+
+	/** maps to SWAP_PRICES.CURRENCY_C **/
+	public static StringAttribute<TestSwapPrice> currency()
+	{
+		return finder.currency();
+	}
+
+	/** maps to SWAP_PRICES.SECURITY_TYPE_C **/
+	public static StringAttribute<TestSwapPrice> securityType()
+	{
+		return finder.securityType();
+	}
+
+	/** maps to SWAP_PRICES.NPV_MODEL_NAME_C **/
+	public static StringAttribute<TestSwapPrice> npvModelName()
+	{
+		return finder.npvModelName();
+	}
+
+	/** maps to SWAP_PRICES.GRID_MODEL_NAME_C **/
+	public static StringAttribute<TestSwapPrice> gridModelName()
+	{
+		return finder.gridModelName();
+	}
+
+	/** maps to SWAP_PRICES.NPV_PRICE_F **/
+	public static DoubleAttribute<TestSwapPrice> npvValue()
+	{
+		return finder.npvValue();
+	}
+
+	/** maps to SWAP_PRICES.GRID_PRICE_F **/
+	public static DoubleAttribute<TestSwapPrice> gridValue()
+	{
+		return finder.gridValue();
+	}
+
+	/** maps to SWAP_PRICES.FEED_NUMBER **/
+	public static IntegerAttribute<TestSwapPrice> feedNumber()
+	{
+		return finder.feedNumber();
+	}
+
+	public static Operation eq(TestSwapPrice other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(sourceId());
+	}
+
+	public static TestSwapPriceSingleFinder<TestSwapPrice, Object, TestSwapPrice> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			sourceId()
+			, accountId()
+			, productGsNumber()
+			, referenceNumber()
+			, legId()
+			, businessDate()
+			, detailNumber()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			sourceId()
+			, sourceId()
+			, accountId()
+			, productGsNumber()
+			, referenceNumber()
+			, legId()
+			, businessDate()
+			, detailNumber()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = npvValue();
+		result[1] = gridValue();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestSwapPrice");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,220 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestSwapPriceListAbstract extends DelegatingList<TestSwapPrice> implements MithraTransactionalList<TestSwapPrice>
+{
+	public TestSwapPriceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestSwapPriceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestSwapPriceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestSwapPriceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestSwapPrice[] elements()
+	{
+		TestSwapPrice[] result = new TestSwapPrice[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestSwapPriceList intersection(TestSwapPriceList another)
+	{
+		return (TestSwapPriceList)super.intersection(another);
+	}
+
+	public TestSwapPrice getTestSwapPriceAt(int index)
+	{
+		return (TestSwapPrice)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestSwapPriceFinder.getMithraObjectPortal();
+	}
+
+	public TestSwapPriceList getNonPersistentCopy()
+	{
+		TestSwapPriceList result = new TestSwapPriceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestSwapPriceList asAdhoc()
+	{
+		return (TestSwapPriceList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TestSwapPrice> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TestSwapPriceList merge(MithraTransactionalList<TestSwapPrice> incoming, TopLevelMergeOptions<TestSwapPrice> mergeOptions)
+	{
+		return (TestSwapPriceList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestSwapPriceList getDetachedCopy()
+	{
+		TestSwapPriceList result = new TestSwapPriceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setSourceId(long newValue)
+	{
+		zSetLong(TestSwapPriceFinder.sourceId(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.acmapCode(), newValue);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.accountId(), newValue);
+	}
+
+	public void setProductGsNumber(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.productGsNumber(), newValue);
+	}
+
+	public void setDealId(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.dealId(), newValue);
+	}
+
+	public void setReferenceNumber(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.referenceNumber(), newValue);
+	}
+
+	public void setLegId(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.legId(), newValue);
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(TestSwapPriceFinder.businessDate(), newValue);
+	}
+
+	public void setDetailNumber(int newValue)
+	{
+		zSetInteger(TestSwapPriceFinder.detailNumber(), newValue);
+	}
+
+	public void setCurrency(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.currency(), newValue);
+	}
+
+	public void setSecurityType(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.securityType(), newValue);
+	}
+
+	public void setNpvModelName(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.npvModelName(), newValue);
+	}
+
+	public void setGridModelName(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.gridModelName(), newValue);
+	}
+
+	public void setNpvValue(double newValue)
+	{
+		zSetDouble(TestSwapPriceFinder.npvValue(), newValue);
+	}
+
+	public void setGridValue(double newValue)
+	{
+		zSetDouble(TestSwapPriceFinder.gridValue(), newValue);
+	}
+
+	public void setFeedNumber(int newValue)
+	{
+		zSetInteger(TestSwapPriceFinder.feedNumber(), newValue);
+	}
+
+	public void setNpvValueNull()
+	{
+		zSetAttributeNull(TestSwapPriceFinder.npvValue());
+	}
+
+	public void setGridValueNull()
+	{
+		zSetAttributeNull(TestSwapPriceFinder.gridValue());
+	}
+
+	public void setFeedNumberNull()
+	{
+		zSetAttributeNull(TestSwapPriceFinder.feedNumber());
+	}
+}
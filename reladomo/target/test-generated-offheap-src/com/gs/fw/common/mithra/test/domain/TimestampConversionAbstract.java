@@ -0,0 +1,281 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TimestampConversionAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TimestampConversion.class.getName());
+	public TimestampConversionAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TimestampConversion getDetachedCopy() throws MithraBusinessException
+	{
+		return (TimestampConversion) super.getDetachedCopy();
+	}
+
+	public TimestampConversion getNonPersistentCopy() throws MithraBusinessException
+	{
+		TimestampConversion result = (TimestampConversion) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TimestampConversion copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TimestampConversion) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TimestampConversion zFindOriginal()
+	{
+		TimestampConversionData data = (TimestampConversionData) this.currentData;
+		Operation op;
+		op = TimestampConversionFinder.id().eq(data.getId());
+		return TimestampConversionFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TimestampConversionData();
+	}
+
+	protected void zSetFromTimestampConversionData( TimestampConversionData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTimestampConversionData( TimestampConversionData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isIdNull()
+	{
+		return ((TimestampConversionData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		TimestampConversionData data = (TimestampConversionData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(TimestampConversionFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isTimestampValueDBNull()
+	{
+		return ((TimestampConversionData) this.zSynchronizedGetData()).isTimestampValueDBNull();
+	}
+
+	public Timestamp getTimestampValueDB()
+	{
+		TimestampConversionData data = (TimestampConversionData) this.zSynchronizedGetData();
+		return data.getTimestampValueDB();
+	}
+
+	public void setTimestampValueDB(Timestamp newValue)
+	{
+		zSetTimestamp(TimestampConversionFinder.timestampValueDB(), newValue, false, false );
+	}
+
+	public boolean isTimestampValueNoneNull()
+	{
+		return ((TimestampConversionData) this.zSynchronizedGetData()).isTimestampValueNoneNull();
+	}
+
+	public Timestamp getTimestampValueNone()
+	{
+		TimestampConversionData data = (TimestampConversionData) this.zSynchronizedGetData();
+		return data.getTimestampValueNone();
+	}
+
+	public void setTimestampValueNone(Timestamp newValue)
+	{
+		zSetTimestamp(TimestampConversionFinder.timestampValueNone(), newValue, false, false );
+	}
+
+	public boolean isTimestampValueUTCNull()
+	{
+		return ((TimestampConversionData) this.zSynchronizedGetData()).isTimestampValueUTCNull();
+	}
+
+	public Timestamp getTimestampValueUTC()
+	{
+		TimestampConversionData data = (TimestampConversionData) this.zSynchronizedGetData();
+		return data.getTimestampValueUTC();
+	}
+
+	public void setTimestampValueUTC(Timestamp newValue)
+	{
+		zSetTimestamp(TimestampConversionFinder.timestampValueUTC(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TimestampConversionData _newData = (TimestampConversionData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TimestampConversionData _newData = (TimestampConversionData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TimestampConversionData _newData = (TimestampConversionData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TimestampConversion zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TimestampConversion original = (TimestampConversion) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TimestampConversionFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TimestampConversionFinder.getMithraObjectPortal();
+	}
+
+	public TimestampConversion getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, TimestampConversionFinder.timestampValueDB(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TimestampConversionFinder.timestampValueNone(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TimestampConversionFinder.timestampValueUTC(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TimestampConversionFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TimestampConversionAbstract result = (TimestampConversionAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
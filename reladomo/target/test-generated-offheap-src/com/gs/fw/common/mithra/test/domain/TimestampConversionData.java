@@ -0,0 +1,339 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TimestampConversionData
+implements MithraDataObject
+{
+	private int id;
+	private Timestamp timestampValueDB;
+	private Timestamp timestampValueNone;
+	private Timestamp timestampValueUTC;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isTimestampValueDBNull()
+	{
+		return this.getTimestampValueDB() == null;
+	}
+
+	public boolean isTimestampValueNoneNull()
+	{
+		return this.getTimestampValueNone() == null;
+	}
+
+	public boolean isTimestampValueUTCNull()
+	{
+		return this.getTimestampValueUTC() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.id);
+		MithraTimestamp.writeTimestamp(out, this.timestampValueDB);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.timestampValueNone);
+		MithraTimestamp.writeTimestamp(out, this.timestampValueUTC);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Timestamp getTimestampValueDB()
+	{
+		return this.timestampValueDB;
+	}
+
+	public long zGetTimestampValueDBAsLong()
+	{
+		if (timestampValueDB == null) return TimestampPool.OFF_HEAP_NULL;
+		return timestampValueDB.getTime();
+	}
+
+	public void setTimestampValueDB(Timestamp value)
+	{
+		this.timestampValueDB = TimestampPool.getInstance().getOrAddToCache(value, TimestampConversionFinder.isFullCache(), TimestampConversionFinder.isOffHeap());
+	}
+
+	public void setTimestampValueDBNull()
+	{
+		this.setTimestampValueDB(null);
+	}
+
+	public Timestamp getTimestampValueNone()
+	{
+		return this.timestampValueNone;
+	}
+
+	public long zGetTimestampValueNoneAsLong()
+	{
+		if (timestampValueNone == null) return TimestampPool.OFF_HEAP_NULL;
+		return timestampValueNone.getTime();
+	}
+
+	public void setTimestampValueNone(Timestamp value)
+	{
+		this.timestampValueNone = TimestampPool.getInstance().getOrAddToCache(value, TimestampConversionFinder.isFullCache(), TimestampConversionFinder.isOffHeap());
+	}
+
+	public void setTimestampValueNoneNull()
+	{
+		this.setTimestampValueNone(null);
+	}
+
+	public Timestamp getTimestampValueUTC()
+	{
+		return this.timestampValueUTC;
+	}
+
+	public long zGetTimestampValueUTCAsLong()
+	{
+		if (timestampValueUTC == null) return TimestampPool.OFF_HEAP_NULL;
+		return timestampValueUTC.getTime();
+	}
+
+	public void setTimestampValueUTC(Timestamp value)
+	{
+		this.timestampValueUTC = TimestampPool.getInstance().getOrAddToCache(value, TimestampConversionFinder.isFullCache(), TimestampConversionFinder.isOffHeap());
+	}
+
+	public void setTimestampValueUTCNull()
+	{
+		this.setTimestampValueUTC(null);
+	}
+
+	protected void copyInto(TimestampConversionData copy, boolean withRelationships)
+	{
+		copy.id = this.id;
+		copy.timestampValueDB = this.timestampValueDB;
+		copy.timestampValueNone = this.timestampValueNone;
+		copy.timestampValueUTC = this.timestampValueUTC;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+		this.timestampValueDB = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TimestampConversionFinder.isFullCache(), TimestampConversionFinder.isOffHeap());
+		this.timestampValueNone = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TimestampConversionFinder.isFullCache(), TimestampConversionFinder.isOffHeap());
+		this.timestampValueUTC = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TimestampConversionFinder.isFullCache(), TimestampConversionFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TimestampConversionData otherData = (TimestampConversionData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TimestampConversionData timestampConversionData = (TimestampConversionData) newData;
+		this.setTimestampValueDB(timestampConversionData.getTimestampValueDB());
+		this.setTimestampValueNone(timestampConversionData.getTimestampValueNone());
+		this.setTimestampValueUTC(timestampConversionData.getTimestampValueUTC());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TimestampConversionData other = (TimestampConversionData) newData;
+		if (!isTimestampValueDBNull() ? !getTimestampValueDB().equals(other.getTimestampValueDB()) : !other.isTimestampValueDBNull())
+		{
+			return true;
+		}
+
+		if (!isTimestampValueNoneNull() ? !getTimestampValueNone().equals(other.getTimestampValueNone()) : !other.isTimestampValueNoneNull())
+		{
+			return true;
+		}
+
+		if (!isTimestampValueUTCNull() ? !getTimestampValueUTC().equals(other.getTimestampValueUTC()) : !other.isTimestampValueUTCNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TimestampConversionData copy = new TimestampConversionData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TimestampConversionData copy = new TimestampConversionData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.TimestampConversionData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TimestampConversionFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TimestampConversionFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.TimestampConversionData";
+	}
+}
@@ -0,0 +1,332 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TimezoneTestAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TimezoneTest.class.getName());
+	public TimezoneTestAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TimezoneTest getDetachedCopy() throws MithraBusinessException
+	{
+		return (TimezoneTest) super.getDetachedCopy();
+	}
+
+	public TimezoneTest getNonPersistentCopy() throws MithraBusinessException
+	{
+		TimezoneTest result = (TimezoneTest) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TimezoneTest copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TimezoneTest) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TimezoneTest zFindOriginal()
+	{
+		TimezoneTestData data = (TimezoneTestData) this.currentData;
+		Operation op;
+		op = TimezoneTestFinder.timezoneTestId().eq(data.getTimezoneTestId());
+		return TimezoneTestFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TimezoneTestData();
+	}
+
+	protected void zSetFromTimezoneTestData( TimezoneTestData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTimezoneTestData( TimezoneTestData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDatabaseDateNull()
+	{
+		return ((TimezoneTestData) this.zSynchronizedGetData()).isDatabaseDateNull();
+	}
+
+	public Date getDatabaseDate()
+	{
+		TimezoneTestData data = (TimezoneTestData) this.zSynchronizedGetData();
+		return data.getDatabaseDate();
+	}
+
+	public void setDatabaseDate(Date newValue)
+	{
+		zSetDate(TimezoneTestFinder.databaseDate(), newValue, false, false );
+	}
+
+	public boolean isDatabaseTimestampNull()
+	{
+		return ((TimezoneTestData) this.zSynchronizedGetData()).isDatabaseTimestampNull();
+	}
+
+	public Timestamp getDatabaseTimestamp()
+	{
+		TimezoneTestData data = (TimezoneTestData) this.zSynchronizedGetData();
+		return data.getDatabaseTimestamp();
+	}
+
+	public void setDatabaseTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestFinder.databaseTimestamp(), newValue, false, false );
+	}
+
+	public boolean isInsensitiveDateNull()
+	{
+		return ((TimezoneTestData) this.zSynchronizedGetData()).isInsensitiveDateNull();
+	}
+
+	public Date getInsensitiveDate()
+	{
+		TimezoneTestData data = (TimezoneTestData) this.zSynchronizedGetData();
+		return data.getInsensitiveDate();
+	}
+
+	public void setInsensitiveDate(Date newValue)
+	{
+		zSetDate(TimezoneTestFinder.insensitiveDate(), newValue, false, false );
+	}
+
+	public boolean isInsensitiveTimestampNull()
+	{
+		return ((TimezoneTestData) this.zSynchronizedGetData()).isInsensitiveTimestampNull();
+	}
+
+	public Timestamp getInsensitiveTimestamp()
+	{
+		TimezoneTestData data = (TimezoneTestData) this.zSynchronizedGetData();
+		return data.getInsensitiveTimestamp();
+	}
+
+	public void setInsensitiveTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestFinder.insensitiveTimestamp(), newValue, false, false );
+	}
+
+	public boolean isTimezoneTestIdNull()
+	{
+		return ((TimezoneTestData) this.zSynchronizedGetData()).isTimezoneTestIdNull();
+	}
+
+	public int getTimezoneTestId()
+	{
+		TimezoneTestData data = (TimezoneTestData) this.zSynchronizedGetData();
+		return data.getTimezoneTestId();
+	}
+
+	public void setTimezoneTestId(int newValue)
+	{
+		zSetInteger(TimezoneTestFinder.timezoneTestId(), newValue, true, false ,false);
+	}
+
+	public boolean isUtcDateNull()
+	{
+		return ((TimezoneTestData) this.zSynchronizedGetData()).isUtcDateNull();
+	}
+
+	public Date getUtcDate()
+	{
+		TimezoneTestData data = (TimezoneTestData) this.zSynchronizedGetData();
+		return data.getUtcDate();
+	}
+
+	public void setUtcDate(Date newValue)
+	{
+		zSetDate(TimezoneTestFinder.utcDate(), newValue, false, false );
+	}
+
+	public boolean isUtcTimestampNull()
+	{
+		return ((TimezoneTestData) this.zSynchronizedGetData()).isUtcTimestampNull();
+	}
+
+	public Timestamp getUtcTimestamp()
+	{
+		TimezoneTestData data = (TimezoneTestData) this.zSynchronizedGetData();
+		return data.getUtcTimestamp();
+	}
+
+	public void setUtcTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestFinder.utcTimestamp(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TimezoneTestData _newData = (TimezoneTestData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TimezoneTestData _newData = (TimezoneTestData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TimezoneTestData _newData = (TimezoneTestData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TimezoneTest zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TimezoneTest original = (TimezoneTest) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TimezoneTestFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public TimezoneTest getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDate(behavior, data, newData, TimezoneTestFinder.databaseDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TimezoneTestFinder.databaseTimestamp(), false);
+		changed |= zUpdateDate(behavior, data, newData, TimezoneTestFinder.insensitiveDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TimezoneTestFinder.insensitiveTimestamp(), false);
+		changed |= zUpdateDate(behavior, data, newData, TimezoneTestFinder.utcDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TimezoneTestFinder.utcTimestamp(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TimezoneTestFinder.timezoneTestId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TimezoneTestAbstract result = (TimezoneTestAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
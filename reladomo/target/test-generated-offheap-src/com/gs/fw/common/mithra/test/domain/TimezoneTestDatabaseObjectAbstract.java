@@ -0,0 +1,479 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TimezoneTestDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "INSENSISTIVE_DATE,DATABASE_DATE,UTC_DATE_COL,INSENSISTIVE_TIMESTP,DATABASE_TIMESTP,UTC_TIMESTP";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.INSENSISTIVE_DATE,t0.DATABASE_DATE,t0.UTC_DATE_COL,t0.INSENSISTIVE_TIMESTP,t0.DATABASE_TIMESTP,t0.UTC_TIMESTP";
+	private static final String PK_WITH_ALIAS = "t0.TIMEZONE_TEST_ID = ?";
+	private static final String PK_INDEX_COLS = "TIMEZONE_TEST_ID";
+	protected TimezoneTestDatabaseObjectAbstract()
+	{
+		super("TimezoneTest", "com.gs.fw.common.mithra.test.domain.TimezoneTestFinder",
+			7, 7,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TimezoneTestFinder.getFinderInstance();
+	}
+
+	public static TimezoneTestData allocateOnHeapData()
+	{
+		return new TimezoneTestData();
+	}
+
+	public static TimezoneTestData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TimezoneTestData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TimezoneTestData data = new TimezoneTestData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(TimezoneTestFinder.getPrimaryKeyAttributes(), this, TimezoneTestFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(TimezoneTestFinder.getPrimaryKeyAttributes(), this, TimezoneTestFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(TimezoneTestFinder.getPrimaryKeyAttributes(), this, TimezoneTestFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(TimezoneTestFinder.getPrimaryKeyAttributes(), this, TimezoneTestFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TimezoneTestFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TimezoneTestFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TimezoneTest.zConfigFullTx();
+		}
+		else
+		{
+			TimezoneTest.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTimezoneTestData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTimezoneTestData(1, (TimezoneTestData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTimezoneTestPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTimezoneTestTableName();
+	}
+
+	public String getTimezoneTestTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TimezoneTestData data = (TimezoneTestData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTimezoneTestId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "TIMEZONE_TEST_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TIMEZONE_TEST_ID,t0.INSENSISTIVE_DATE,t0.DATABASE_DATE,t0.UTC_DATE_COL,t0.INSENSISTIVE_TIMESTP,t0.DATABASE_TIMESTP,t0.UTC_TIMESTP";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*7);
+		result.append(databaseAlias).append(".").append("TIMEZONE_TEST_ID");
+		result.append(",").append(databaseAlias).append(".").append("INSENSISTIVE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("DATABASE_DATE");
+		result.append(",").append(databaseAlias).append(".").append("UTC_DATE_COL");
+		result.append(",").append(databaseAlias).append(".").append("INSENSISTIVE_TIMESTP");
+		result.append(",").append(databaseAlias).append(".").append("DATABASE_TIMESTP");
+		result.append(",").append(databaseAlias).append(".").append("UTC_TIMESTP");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TimezoneTestData inflateTimezoneTestData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TimezoneTestData data = inflateTimezoneTestPkData(rs, dt);
+		inflateNonPkTimezoneTestData(2, data, rs, dt);
+		return data;
+	}
+
+	public TimezoneTestData inflateTimezoneTestPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TimezoneTestData _data = new TimezoneTestData();
+		int _pos = 1;
+		_data.setTimezoneTestId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "timezoneTestId");
+		return _data;
+	}
+
+	public void inflateNonPkTimezoneTestData(int _pos, TimezoneTestData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TimeZone _databaseTimeZone = getDatabaseTimeZone();
+		{
+			TimezoneTestData _data = _datax;
+			_data.setInsensitiveDate(_rs.getDate(_pos++));
+			_data.setDatabaseDate(_rs.getDate(_pos++));
+			_data.setUtcDate(_rs.getDate(_pos++));
+			Timestamp insensitiveTimestamptimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setInsensitiveTimestamp(insensitiveTimestamptimestampValue);
+			Timestamp databaseTimestamptimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, _databaseTimeZone);
+			_data.setDatabaseTimestamp(databaseTimestamptimestampValue);
+			Timestamp utcTimestamptimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.UtcTimeZone);
+			_data.setUtcTimestamp(utcTimestamptimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TIMEZONE_TEST";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TimezoneTestData data = (TimezoneTestData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTimezoneTestId());
+		if (data.isInsensitiveDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getInsensitiveDate());
+		}
+
+		if (data.isDatabaseDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getDatabaseDate());
+		}
+
+		if (data.isUtcDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getUtcDate());
+		}
+
+		if (data.isInsensitiveTimestampNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getInsensitiveTimestamp(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isDatabaseTimestampNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = databaseTimeZone;
+			dt.setTimestamp(stm, pos, data.getDatabaseTimestamp(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isUtcTimestampNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.UtcTimeZone;
+			dt.setTimestamp(stm, pos, data.getUtcTimestamp(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "TIMEZONE_TEST_ID,INSENSISTIVE_DATE,DATABASE_DATE,UTC_DATE_COL,INSENSISTIVE_TIMESTP,DATABASE_TIMESTP,UTC_TIMESTP";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		TimezoneTest newObject = new TimezoneTest();
+		newObject.zSetFromTimezoneTestData((TimezoneTestData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TIMEZONE_TEST_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*7);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("TIMEZONE_TEST_ID");
+		return result.toString();
+	}
+}
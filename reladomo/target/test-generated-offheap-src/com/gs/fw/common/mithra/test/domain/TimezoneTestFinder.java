@@ -0,0 +1,713 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TimezoneTestFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TimezoneTest";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TimezoneTest";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TimezoneTest");
+	private static final TimezoneTestSingleFinder<TimezoneTest, Object, TimezoneTest> finder = new TimezoneTestSingleFinder<TimezoneTest, Object, TimezoneTest>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TimezoneTestFinder.TimezoneTestRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("timezoneTestId");
+		finderMethodMap.addNormalAttributeName("insensitiveDate");
+		finderMethodMap.addNormalAttributeName("databaseDate");
+		finderMethodMap.addNormalAttributeName("utcDate");
+		finderMethodMap.addNormalAttributeName("insensitiveTimestamp");
+		finderMethodMap.addNormalAttributeName("databaseTimestamp");
+		finderMethodMap.addNormalAttributeName("utcTimestamp");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TimezoneTest findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TimezoneTest findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TimezoneTestList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TimezoneTestList) finder.findMany(operation);
+	}
+
+	public static TimezoneTestList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TimezoneTestList) finder.findManyBypassCache(operation);
+	}
+
+	private static TimezoneTest findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TimezoneTest) FinderUtils.findOne(found);
+	}
+
+	public static TimezoneTest findByPrimaryKey(int timezoneTestId)
+	{
+		return finder.findByPrimaryKey(timezoneTestId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TimezoneTestData _castedTargetData = (TimezoneTestData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getTimezoneTestId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TimezoneTest zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TimezoneTest) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TimezoneTestRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TimezoneTest, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> timezoneTestId;
+		private DateAttribute<ParentOwnerType> insensitiveDate;
+		private DateAttribute<ParentOwnerType> databaseDate;
+		private DateAttribute<ParentOwnerType> utcDate;
+		private TimestampAttribute<ParentOwnerType> insensitiveTimestamp;
+		private TimestampAttribute<ParentOwnerType> databaseTimestamp;
+		private TimestampAttribute<ParentOwnerType> utcTimestamp;
+		public TimezoneTestRelatedFinder()
+		{
+			super();
+		}
+
+		public TimezoneTestRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TimezoneTestFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TimezoneTestFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TimezoneTestFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TimezoneTestFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.timezoneTestId();
+			attributes[1] = this.insensitiveDate();
+			attributes[2] = this.databaseDate();
+			attributes[3] = this.utcDate();
+			attributes[4] = this.insensitiveTimestamp();
+			attributes[5] = this.databaseTimestamp();
+			attributes[6] = this.utcTimestamp();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TimezoneTest findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TimezoneTestFinder.findOne(operation, false);
+		}
+
+		public TimezoneTest findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TimezoneTestFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TimezoneTest> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TimezoneTestList((Operation) operation);
+		}
+
+		public MithraList<? extends TimezoneTest> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TimezoneTestList result = (TimezoneTestList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TimezoneTest> constructEmptyList()
+		{
+			return new TimezoneTestList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -198978271;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> timezoneTestId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.timezoneTestId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TIMEZONE_TEST_ID","","timezoneTestId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TimezoneTestFinder.timezoneTestId(), this.mapper, this.zGetValueSelector());
+				this.timezoneTestId = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> insensitiveDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.insensitiveDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("INSENSISTIVE_DATE","","insensitiveDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(TimezoneTestFinder.insensitiveDate(), this.mapper, this.zGetValueSelector());
+				this.insensitiveDate = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> databaseDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.databaseDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATABASE_DATE","","databaseDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(TimezoneTestFinder.databaseDate(), this.mapper, this.zGetValueSelector());
+				this.databaseDate = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> utcDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.utcDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("UTC_DATE_COL","","utcDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(TimezoneTestFinder.utcDate(), this.mapper, this.zGetValueSelector());
+				this.utcDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> insensitiveTimestamp()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.insensitiveTimestamp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("INSENSISTIVE_TIMESTP","","insensitiveTimestamp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TimezoneTestFinder.insensitiveTimestamp(), this.mapper, this.zGetValueSelector());
+				this.insensitiveTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> databaseTimestamp()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.databaseTimestamp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("DATABASE_TIMESTP","","databaseTimestamp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_TO_DATABASE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TimezoneTestFinder.databaseTimestamp(), this.mapper, this.zGetValueSelector());
+				this.databaseTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> utcTimestamp()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.utcTimestamp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("UTC_TIMESTP","","utcTimestamp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TimezoneTestFinder.utcTimestamp(), this.mapper, this.zGetValueSelector());
+				this.utcTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TimezoneTestFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TimezoneTestFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TimezoneTestCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TimezoneTestRelatedFinder<ParentOwnerType, ReturnType, TimezoneTestList, OwnerType>
+	{
+		public TimezoneTestCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TimezoneTestCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TimezoneTestCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TimezoneTestCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TimezoneTestSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TimezoneTestRelatedFinder<ParentOwnerType, ReturnType, TimezoneTestList, OwnerType>
+	implements ToOneFinder
+	{
+		public TimezoneTestSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TimezoneTestSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TimezoneTest other)
+		{
+			return this.timezoneTestId().eq(other.getTimezoneTestId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TimezoneTest findByPrimaryKey(int timezoneTestId)
+		{
+			TimezoneTest _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(timezoneTestId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TimezoneTest) _related;
+			if (_related == null)
+			{
+				_op = this.timezoneTestId().eq(timezoneTestId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TimezoneTestSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TimezoneTestSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TimezoneTestSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TIMEZONE_TEST.TIMEZONE_TEST_ID **/
+	public static IntegerAttribute<TimezoneTest> timezoneTestId()
+	{
+		return finder.timezoneTestId();
+	}
+
+	/** maps to TIMEZONE_TEST.INSENSISTIVE_DATE **/
+	public static DateAttribute<TimezoneTest> insensitiveDate()
+	{
+		return finder.insensitiveDate();
+	}
+
+	/** maps to TIMEZONE_TEST.DATABASE_DATE **/
+	public static DateAttribute<TimezoneTest> databaseDate()
+	{
+		return finder.databaseDate();
+	}
+
+	/** maps to TIMEZONE_TEST.UTC_DATE_COL **/
+	public static DateAttribute<TimezoneTest> utcDate()
+	{
+		return finder.utcDate();
+	}
+
+	/** maps to TIMEZONE_TEST.INSENSISTIVE_TIMESTP **/
+	public static TimestampAttribute<TimezoneTest> insensitiveTimestamp()
+	{
+		return finder.insensitiveTimestamp();
+	}
+
+	/** maps to TIMEZONE_TEST.DATABASE_TIMESTP **/
+	public static TimestampAttribute<TimezoneTest> databaseTimestamp()
+	{
+		return finder.databaseTimestamp();
+	}
+
+	/** maps to TIMEZONE_TEST.UTC_TIMESTP **/
+	public static TimestampAttribute<TimezoneTest> utcTimestamp()
+	{
+		return finder.utcTimestamp();
+	}
+
+	public static Operation eq(TimezoneTest other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(timezoneTestId());
+	}
+
+	public static TimezoneTestSingleFinder<TimezoneTest, Object, TimezoneTest> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			timezoneTestId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			timezoneTestId()
+			, timezoneTestId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TimezoneTest");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
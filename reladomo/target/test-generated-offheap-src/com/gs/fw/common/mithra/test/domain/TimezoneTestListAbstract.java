@@ -0,0 +1,160 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TimezoneTestListAbstract extends DelegatingList<TimezoneTest> implements MithraTransactionalList<TimezoneTest>
+{
+	public TimezoneTestListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TimezoneTestListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TimezoneTestListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TimezoneTestListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TimezoneTest[] elements()
+	{
+		TimezoneTest[] result = new TimezoneTest[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TimezoneTestList intersection(TimezoneTestList another)
+	{
+		return (TimezoneTestList)super.intersection(another);
+	}
+
+	public TimezoneTest getTimezoneTestAt(int index)
+	{
+		return (TimezoneTest)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public TimezoneTestList getNonPersistentCopy()
+	{
+		TimezoneTestList result = new TimezoneTestList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TimezoneTestList asAdhoc()
+	{
+		return (TimezoneTestList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TimezoneTest> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TimezoneTestList merge(MithraTransactionalList<TimezoneTest> incoming, TopLevelMergeOptions<TimezoneTest> mergeOptions)
+	{
+		return (TimezoneTestList) super.merge(incoming, mergeOptions);
+	}
+
+	public TimezoneTestList getDetachedCopy()
+	{
+		TimezoneTestList result = new TimezoneTestList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setTimezoneTestId(int newValue)
+	{
+		zSetInteger(TimezoneTestFinder.timezoneTestId(), newValue);
+	}
+
+	public void setInsensitiveDate(Date newValue)
+	{
+		zSetDate(TimezoneTestFinder.insensitiveDate(), newValue);
+	}
+
+	public void setDatabaseDate(Date newValue)
+	{
+		zSetDate(TimezoneTestFinder.databaseDate(), newValue);
+	}
+
+	public void setUtcDate(Date newValue)
+	{
+		zSetDate(TimezoneTestFinder.utcDate(), newValue);
+	}
+
+	public void setInsensitiveTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestFinder.insensitiveTimestamp(), newValue);
+	}
+
+	public void setDatabaseTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestFinder.databaseTimestamp(), newValue);
+	}
+
+	public void setUtcTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestFinder.utcTimestamp(), newValue);
+	}
+}
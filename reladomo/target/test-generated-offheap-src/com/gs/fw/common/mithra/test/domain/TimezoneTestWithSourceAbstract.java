@@ -0,0 +1,299 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TimezoneTestWithSourceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TimezoneTestWithSource.class.getName());
+	public TimezoneTestWithSourceAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TimezoneTestWithSource getDetachedCopy() throws MithraBusinessException
+	{
+		return (TimezoneTestWithSource) super.getDetachedCopy();
+	}
+
+	public TimezoneTestWithSource getNonPersistentCopy() throws MithraBusinessException
+	{
+		TimezoneTestWithSource result = (TimezoneTestWithSource) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TimezoneTestWithSource copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TimezoneTestWithSource) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TimezoneTestWithSource zFindOriginal()
+	{
+		TimezoneTestWithSourceData data = (TimezoneTestWithSourceData) this.currentData;
+		Operation op;
+		op = TimezoneTestWithSourceFinder.timezoneTestId().eq(data.getTimezoneTestId());
+		op = op.and(TimezoneTestWithSourceFinder.deskId().eq(data.getDeskId()));
+		return TimezoneTestWithSourceFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TimezoneTestWithSourceData();
+	}
+
+	protected void zSetFromTimezoneTestWithSourceData( TimezoneTestWithSourceData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTimezoneTestWithSourceData( TimezoneTestWithSourceData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDatabaseDateNull()
+	{
+		return ((TimezoneTestWithSourceData) this.zSynchronizedGetData()).isDatabaseDateNull();
+	}
+
+	public Timestamp getDatabaseDate()
+	{
+		TimezoneTestWithSourceData data = (TimezoneTestWithSourceData) this.zSynchronizedGetData();
+		return data.getDatabaseDate();
+	}
+
+	public void setDatabaseDate(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestWithSourceFinder.databaseDate(), newValue, false, false );
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((TimezoneTestWithSourceData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		TimezoneTestWithSourceData data = (TimezoneTestWithSourceData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(TimezoneTestWithSourceFinder.deskId(), newValue, false, false );
+	}
+
+	public boolean isInsensitiveDateNull()
+	{
+		return ((TimezoneTestWithSourceData) this.zSynchronizedGetData()).isInsensitiveDateNull();
+	}
+
+	public Timestamp getInsensitiveDate()
+	{
+		TimezoneTestWithSourceData data = (TimezoneTestWithSourceData) this.zSynchronizedGetData();
+		return data.getInsensitiveDate();
+	}
+
+	public void setInsensitiveDate(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestWithSourceFinder.insensitiveDate(), newValue, false, false );
+	}
+
+	public boolean isTimezoneTestIdNull()
+	{
+		return ((TimezoneTestWithSourceData) this.zSynchronizedGetData()).isTimezoneTestIdNull();
+	}
+
+	public int getTimezoneTestId()
+	{
+		TimezoneTestWithSourceData data = (TimezoneTestWithSourceData) this.zSynchronizedGetData();
+		return data.getTimezoneTestId();
+	}
+
+	public void setTimezoneTestId(int newValue)
+	{
+		zSetInteger(TimezoneTestWithSourceFinder.timezoneTestId(), newValue, true, false ,false);
+	}
+
+	public boolean isUtcDateNull()
+	{
+		return ((TimezoneTestWithSourceData) this.zSynchronizedGetData()).isUtcDateNull();
+	}
+
+	public Timestamp getUtcDate()
+	{
+		TimezoneTestWithSourceData data = (TimezoneTestWithSourceData) this.zSynchronizedGetData();
+		return data.getUtcDate();
+	}
+
+	public void setUtcDate(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestWithSourceFinder.utcDate(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TimezoneTestWithSourceData _newData = (TimezoneTestWithSourceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TimezoneTestWithSourceData _newData = (TimezoneTestWithSourceData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TimezoneTestWithSourceData _newData = (TimezoneTestWithSourceData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TimezoneTestWithSource zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TimezoneTestWithSource original = (TimezoneTestWithSource) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TimezoneTestWithSourceFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TimezoneTestWithSourceFinder.getMithraObjectPortal();
+	}
+
+	public TimezoneTestWithSource getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, TimezoneTestWithSourceFinder.databaseDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TimezoneTestWithSourceFinder.insensitiveDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TimezoneTestWithSourceFinder.utcDate(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TimezoneTestWithSourceFinder.deskId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TimezoneTestWithSourceFinder.timezoneTestId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TimezoneTestWithSourceAbstract result = (TimezoneTestWithSourceAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
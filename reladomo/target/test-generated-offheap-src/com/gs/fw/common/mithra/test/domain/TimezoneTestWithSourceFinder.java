@@ -0,0 +1,691 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TimezoneTestWithSourceFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("deskId",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TimezoneTestWithSource";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TimezoneTestWithSource";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TimezoneTestWithSource");
+	private static final TimezoneTestWithSourceSingleFinder<TimezoneTestWithSource, Object, TimezoneTestWithSource> finder = new TimezoneTestWithSourceSingleFinder<TimezoneTestWithSource, Object, TimezoneTestWithSource>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TimezoneTestWithSourceFinder.TimezoneTestWithSourceRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("timezoneTestId");
+		finderMethodMap.addNormalAttributeName("insensitiveDate");
+		finderMethodMap.addNormalAttributeName("databaseDate");
+		finderMethodMap.addNormalAttributeName("utcDate");
+		finderMethodMap.addNormalAttributeName("deskId");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return TimezoneTestWithSourceFinder.zSourceAttributeType;
+	}
+
+	public static TimezoneTestWithSource findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TimezoneTestWithSource findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TimezoneTestWithSourceList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TimezoneTestWithSourceList) finder.findMany(operation);
+	}
+
+	public static TimezoneTestWithSourceList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TimezoneTestWithSourceList) finder.findManyBypassCache(operation);
+	}
+
+	private static TimezoneTestWithSource findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TimezoneTestWithSource) FinderUtils.findOne(found);
+	}
+
+	public static TimezoneTestWithSource findByPrimaryKey(int timezoneTestId, String deskId)
+	{
+		return finder.findByPrimaryKey(timezoneTestId, deskId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TimezoneTestWithSourceData _castedTargetData = (TimezoneTestWithSourceData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getTimezoneTestId() && _bean.getO1AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static TimezoneTestWithSource zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TimezoneTestWithSource) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TimezoneTestWithSourceRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TimezoneTestWithSource, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return TimezoneTestWithSourceFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> timezoneTestId;
+		private TimestampAttribute<ParentOwnerType> insensitiveDate;
+		private TimestampAttribute<ParentOwnerType> databaseDate;
+		private TimestampAttribute<ParentOwnerType> utcDate;
+		private StringAttribute<ParentOwnerType> deskId;
+		public TimezoneTestWithSourceRelatedFinder()
+		{
+			super();
+		}
+
+		public TimezoneTestWithSourceRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TimezoneTestWithSourceFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TimezoneTestWithSourceFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TimezoneTestWithSourceFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TimezoneTestWithSourceFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.timezoneTestId();
+			attributes[1] = this.insensitiveDate();
+			attributes[2] = this.databaseDate();
+			attributes[3] = this.utcDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TimezoneTestWithSource findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TimezoneTestWithSourceFinder.findOne(operation, false);
+		}
+
+		public TimezoneTestWithSource findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TimezoneTestWithSourceFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TimezoneTestWithSource> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TimezoneTestWithSourceList((Operation) operation);
+		}
+
+		public MithraList<? extends TimezoneTestWithSource> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TimezoneTestWithSourceList result = (TimezoneTestWithSourceList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TimezoneTestWithSource> constructEmptyList()
+		{
+			return new TimezoneTestWithSourceList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 2019055693;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return TimezoneTestWithSourceFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> timezoneTestId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.timezoneTestId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TIMEZONE_TEST_ID","","timezoneTestId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TimezoneTestWithSourceFinder.timezoneTestId(), this.mapper, this.zGetValueSelector());
+				this.timezoneTestId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> insensitiveDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.insensitiveDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("INSENSISTIVE_DATE","","insensitiveDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TimezoneTestWithSourceFinder.insensitiveDate(), this.mapper, this.zGetValueSelector());
+				this.insensitiveDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> databaseDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.databaseDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("DATABASE_DATE","","databaseDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_TO_DATABASE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TimezoneTestWithSourceFinder.databaseDate(), this.mapper, this.zGetValueSelector());
+				this.databaseDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> utcDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.utcDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("\"UTC_DATE\"","","utcDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TimezoneTestWithSourceFinder.utcDate(), this.mapper, this.zGetValueSelector());
+				this.utcDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> deskId()
+		{
+			StringAttribute<ParentOwnerType> result = this.deskId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","deskId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(TimezoneTestWithSourceFinder.deskId(), this.mapper, this.zGetValueSelector());
+				this.deskId = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return TimezoneTestWithSourceFinder.deskId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TimezoneTestWithSourceFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TimezoneTestWithSourceFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TimezoneTestWithSourceCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TimezoneTestWithSourceRelatedFinder<ParentOwnerType, ReturnType, TimezoneTestWithSourceList, OwnerType>
+	{
+		public TimezoneTestWithSourceCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TimezoneTestWithSourceCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TimezoneTestWithSourceCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TimezoneTestWithSourceCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TimezoneTestWithSourceSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TimezoneTestWithSourceRelatedFinder<ParentOwnerType, ReturnType, TimezoneTestWithSourceList, OwnerType>
+	implements ToOneFinder
+	{
+		public TimezoneTestWithSourceSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TimezoneTestWithSourceSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TimezoneTestWithSource other)
+		{
+			return this.timezoneTestId().eq(other.getTimezoneTestId())
+			.and(this.deskId().eq(other.getDeskId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TimezoneTestWithSource findByPrimaryKey(int timezoneTestId, String deskId)
+		{
+			TimezoneTestWithSource _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (deskId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(timezoneTestId);
+				_bean.setO1(deskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TimezoneTestWithSource) _related;
+			if (_related == null)
+			{
+				_op = this.timezoneTestId().eq(timezoneTestId).and(this.deskId().eq(deskId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TimezoneTestWithSourceSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TimezoneTestWithSourceSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TimezoneTestWithSourceSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TIMEZONE_TEST_WITH_SOURCE.TIMEZONE_TEST_ID **/
+	public static IntegerAttribute<TimezoneTestWithSource> timezoneTestId()
+	{
+		return finder.timezoneTestId();
+	}
+
+	/** maps to TIMEZONE_TEST_WITH_SOURCE.INSENSISTIVE_DATE **/
+	public static TimestampAttribute<TimezoneTestWithSource> insensitiveDate()
+	{
+		return finder.insensitiveDate();
+	}
+
+	/** maps to TIMEZONE_TEST_WITH_SOURCE.DATABASE_DATE **/
+	public static TimestampAttribute<TimezoneTestWithSource> databaseDate()
+	{
+		return finder.databaseDate();
+	}
+
+	/** maps to TIMEZONE_TEST_WITH_SOURCE."UTC_DATE" **/
+	public static TimestampAttribute<TimezoneTestWithSource> utcDate()
+	{
+		return finder.utcDate();
+	}
+
+	public static StringAttribute<TimezoneTestWithSource> deskId()
+	{
+		return finder.deskId();
+	}
+
+	public static Operation eq(TimezoneTestWithSource other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(timezoneTestId());
+	}
+
+	public static TimezoneTestWithSourceSingleFinder<TimezoneTestWithSource, Object, TimezoneTestWithSource> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			timezoneTestId()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			timezoneTestId()
+			, timezoneTestId()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TimezoneTestWithSource");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String deskId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(deskId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> deskIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(deskIdSet, listener);
+	}
+}
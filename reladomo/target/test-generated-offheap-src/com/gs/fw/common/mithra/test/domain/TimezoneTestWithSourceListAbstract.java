@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TimezoneTestWithSourceListAbstract extends DelegatingList<TimezoneTestWithSource> implements MithraTransactionalList<TimezoneTestWithSource>
+{
+	public TimezoneTestWithSourceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TimezoneTestWithSourceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TimezoneTestWithSourceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TimezoneTestWithSourceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TimezoneTestWithSource[] elements()
+	{
+		TimezoneTestWithSource[] result = new TimezoneTestWithSource[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TimezoneTestWithSourceList intersection(TimezoneTestWithSourceList another)
+	{
+		return (TimezoneTestWithSourceList)super.intersection(another);
+	}
+
+	public TimezoneTestWithSource getTimezoneTestWithSourceAt(int index)
+	{
+		return (TimezoneTestWithSource)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TimezoneTestWithSourceFinder.getMithraObjectPortal();
+	}
+
+	public TimezoneTestWithSourceList getNonPersistentCopy()
+	{
+		TimezoneTestWithSourceList result = new TimezoneTestWithSourceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TimezoneTestWithSourceList asAdhoc()
+	{
+		return (TimezoneTestWithSourceList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TimezoneTestWithSource> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TimezoneTestWithSourceList merge(MithraTransactionalList<TimezoneTestWithSource> incoming, TopLevelMergeOptions<TimezoneTestWithSource> mergeOptions)
+	{
+		return (TimezoneTestWithSourceList) super.merge(incoming, mergeOptions);
+	}
+
+	public TimezoneTestWithSourceList getDetachedCopy()
+	{
+		TimezoneTestWithSourceList result = new TimezoneTestWithSourceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setTimezoneTestId(int newValue)
+	{
+		zSetInteger(TimezoneTestWithSourceFinder.timezoneTestId(), newValue);
+	}
+
+	public void setInsensitiveDate(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestWithSourceFinder.insensitiveDate(), newValue);
+	}
+
+	public void setDatabaseDate(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestWithSourceFinder.databaseDate(), newValue);
+	}
+
+	public void setUtcDate(Timestamp newValue)
+	{
+		zSetTimestamp(TimezoneTestWithSourceFinder.utcDate(), newValue);
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(TimezoneTestWithSourceFinder.deskId(), newValue);
+	}
+}
@@ -0,0 +1,974 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TinyBalanceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		TinyBalanceFinder.businessDate()
+	,
+		TinyBalanceFinder.processingDate()
+	, TinyBalanceFinder.zGetDoubleAttributes(),TinyBalanceFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TinyBalance.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fortestRelationship = new TestRelationshipRhs();
+	private static final class TestRelationshipRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = ParaBalanceFinder.businessDate();
+		private AsOfAttribute processingDate = ParaBalanceFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TinyBalance _castedSrcObject = (TinyBalance) _srcObject;
+			TinyBalanceData _castedSrcData = (TinyBalanceData) _srcData;
+			ParaBalanceData _castedTargetData = (ParaBalanceData) _targetData;
+			if (_castedSrcData.getBalanceId() == _castedTargetData.getBalanceId() && _castedSrcData.getAcmapCode()!= null && _castedSrcData.getAcmapCode().equals(_castedTargetData.getAcmapCode()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TinyBalanceData _castedSrcData = (TinyBalanceData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getBalanceId()),HashUtil.hash(_castedSrcData.getAcmapCode()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TinyBalanceData _castedSrcData = (TinyBalanceData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getBalanceId()),HashUtil.offHeapHash(_castedSrcData.zGetAcmapCodeAsInt()));
+		}
+	}
+
+	public TinyBalanceAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TinyBalanceFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TinyBalanceFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TinyBalanceAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public TinyBalanceData zSynchronizedGetData()
+	{
+		return (TinyBalanceData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TinyBalanceFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TinyBalanceFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TinyBalance zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TinyBalance original = (TinyBalance) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TinyBalance copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TinyBalance) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TinyBalance copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TinyBalance) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			TinyBalanceFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TinyBalance getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TinyBalanceAbstract result = (TinyBalanceAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TinyBalance ) result;
+	}
+
+	public TinyBalance zFindOriginal()
+	{
+		TinyBalanceData data = (TinyBalanceData) this.currentData;
+		Operation op;
+		op = TinyBalanceFinder.balanceId().eq(data.getBalanceId());
+		op = op.and(TinyBalanceFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(TinyBalanceFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TinyBalanceFinder.processingDate().eq(this.getProcessingDate()));
+		return TinyBalanceFinder.findOne(op);
+	}
+
+	public TinyBalance getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TinyBalanceAbstract result = (TinyBalanceAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TinyBalance ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TinyBalance copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TinyBalance) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TinyBalance copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TinyBalance) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TinyBalanceData data = (TinyBalanceData) this.currentData;
+			Operation op = TinyBalanceFinder.businessDate().eq(this.businessDate);
+			op = op.and(TinyBalanceFinder.processingDate().eq(this.processingDate));
+			op = op.and(TinyBalanceFinder.balanceId().eq(data.getBalanceId()));
+			op = op.and(TinyBalanceFinder.acmapCode().eq(data.getAcmapCode()));
+			return TinyBalanceFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TinyBalanceData data = (TinyBalanceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TinyBalanceFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TinyBalanceData data = (TinyBalanceData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceIdNull()
+	{
+		return this.zSynchronizedGetData().isBalanceIdNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TinyBalanceFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(TinyBalanceFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public int getBalanceId()
+	{
+		return this.zSynchronizedGetData().getBalanceId();
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(TinyBalanceFinder.balanceId(), newValue, true ,false);
+	}
+
+	public void setBalanceIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TinyBalanceFinder.balanceId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceFinder.businessDateTo(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceFinder.processingDateTo(), newValue, false );
+	}
+
+	public double getQuantity()
+	{
+		TinyBalanceData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(TinyBalanceFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(TinyBalanceFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, TinyBalanceFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, TinyBalanceFinder.quantity(), false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TinyBalanceFinder.quantity(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TinyBalanceData data2 = (TinyBalanceData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TinyBalanceFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(TinyBalanceFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TinyBalanceFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TinyBalanceData _newData = (TinyBalanceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TinyBalanceData _newData = (TinyBalanceData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TinyBalanceData _newData = (TinyBalanceData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.balanceId = ParaBalance.balanceId</pre>
+	* @return The test relationship
+	*/
+	public ParaBalance getTestRelationship()
+	{
+		ParaBalance _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceData _data = (TinyBalanceData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ParaBalanceFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fortestRelationship,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (ParaBalance) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceFinder.testRelationship().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TinyBalanceFinder.testRelationship().zGetRelationshipMultiExtractor(), this);
+					_result = ParaBalanceFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ParaBalance) _data.getTestRelationship();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceFinder.testRelationship().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ParaBalanceFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setTestRelationship(ParaBalance testRelationship)
+	{
+		ParaBalance _testRelationship = (ParaBalance) testRelationship;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TinyBalanceData _data = (TinyBalanceData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setTestRelationship(_testRelationship);
+			if (_testRelationship == null)
+			{
+				this.setBalanceId(0);
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setBalanceId(
+					_testRelationship.getBalanceId());
+				this.setAcmapCode(
+					_testRelationship.getAcmapCode());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_testRelationship == null)
+			{
+				this.setBalanceId(0);
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setBalanceId(
+					_testRelationship.getBalanceId());
+				this.setAcmapCode(
+					_testRelationship.getAcmapCode());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = NonAuditedBalance.interest</pre>
+	* @return non audited balance by interest
+	*/
+	public NonAuditedBalanceList getNonAuditedBalanceByInterest()
+	{
+		NonAuditedBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceData _data = (TinyBalanceData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceFinder.nonAuditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new NonAuditedBalanceList( new None (
+					NonAuditedBalanceFinder.balanceId()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isQuantityNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TinyBalanceFinder.nonAuditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+					_result = new NonAuditedBalanceList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new NonAuditedBalanceList( new None (
+						NonAuditedBalanceFinder.balanceId()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (NonAuditedBalanceList) _data.getNonAuditedBalanceByInterest();
+			if (_result == null)
+			{
+				if (!_data.isQuantityNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceFinder.nonAuditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new NonAuditedBalanceList( new None (
+						NonAuditedBalanceFinder.balanceId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new NonAuditedBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setNonAuditedBalanceByInterest(NonAuditedBalanceList nonAuditedBalanceByInterest)
+	{
+		NonAuditedBalanceList _nonAuditedBalanceByInterest = (NonAuditedBalanceList) nonAuditedBalanceByInterest;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TinyBalanceData _data = (TinyBalanceData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setNonAuditedBalanceByInterest(_nonAuditedBalanceByInterest);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceData _data = (TinyBalanceData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new AuditOnlyBalanceList( new None (
+					AuditOnlyBalanceFinder.balanceId()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isQuantityNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TinyBalanceFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+					_result = new AuditOnlyBalanceList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new AuditOnlyBalanceList( new None (
+						AuditOnlyBalanceFinder.balanceId()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditOnlyBalanceList) _data.getAuditedBalanceByInterest();
+			if (_result == null)
+			{
+				if (!_data.isQuantityNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new AuditOnlyBalanceList( new None (
+						AuditOnlyBalanceFinder.balanceId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setAuditedBalanceByInterest(AuditOnlyBalanceList auditedBalanceByInterest)
+	{
+		AuditOnlyBalanceList _auditedBalanceByInterest = (AuditOnlyBalanceList) auditedBalanceByInterest;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TinyBalanceData _data = (TinyBalanceData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAuditedBalanceByInterest(_auditedBalanceByInterest);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return audited balance by interest for quantity
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterestForQuantity(double quantity)
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceData _data = (TinyBalanceData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = AuditOnlyBalanceFinder.interest().eq(_data.getQuantity()).and(AuditOnlyBalanceFinder.acmapCode().eq(_data.getAcmapCode())).and(AuditOnlyBalanceFinder.processingDate().eq(this.getProcessingDate())).and(AuditOnlyBalanceFinder.quantity().greaterThan(quantity));
+				}
+			}
+			else 
+			{
+				_result = new AuditOnlyBalanceList( new None (
+					AuditOnlyBalanceFinder.balanceId()));
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = NonAuditedBalance.interest and NonAuditedBalance.quantity > {quantity} and NonAuditedBalance.interest = AuditOnlyBalance.interest
+	and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return chained filtered
+	*/
+	public AuditOnlyBalanceList getChainedFiltered(double quantity)
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceData _data = (TinyBalanceData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = new MappedOperation(TinyBalanceFinder.zGetChainedFilteredMapperFragment(quantity), NonAuditedBalanceFinder.interest().eq(_data.getQuantity()).and(NonAuditedBalanceFinder.acmapCode().eq(_data.getAcmapCode())).and(NonAuditedBalanceFinder.businessDate().eq(this.getBusinessDate())).and(NonAuditedBalanceFinder.quantity().greaterThan(quantity)));
+				}
+			}
+			else 
+			{
+				_result = new AuditOnlyBalanceList( new None (
+					AuditOnlyBalanceFinder.balanceId()));
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public Cache zGetCache()
+	{
+		return TinyBalanceFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TinyBalanceData.TinyBalanceDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TinyBalanceData data = (TinyBalanceData) TinyBalanceFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TinyBalance has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTinyBalanceData( TinyBalanceData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTinyBalanceData( TinyBalanceData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TinyBalanceFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TinyBalanceFinder.getMithraObjectPortal();
+	}
+
+	public TinyBalance getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TinyBalanceAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TinyBalanceAbstract from = (TinyBalanceAbstract) f;
+		TinyBalanceData newData = from.zSynchronizedGetData();
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TinyBalanceData _newData = (TinyBalanceData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TinyBalanceData _newData = (TinyBalanceData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TinyBalanceAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TinyBalanceAbstract from = (TinyBalanceAbstract)f;
+		TinyBalanceData newData = from.zSynchronizedGetData();
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TinyBalanceData newData = (TinyBalanceData) d;
+		TinyBalanceData data = (TinyBalanceData) nd;
+		if (TinyBalanceFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TinyBalanceFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TinyBalanceFinder.balanceId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TinyBalanceFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TinyBalanceFinder.acmapCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TinyBalanceFinder.balanceId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, TinyBalanceFinder.quantity(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TinyBalanceData data = ((TinyBalanceData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TinyBalanceData data = ((TinyBalanceData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TinyBalanceData data = ((TinyBalanceData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity()), TinyBalanceFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity()), TinyBalanceFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TinyBalanceData localData = (TinyBalanceData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,226 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TinyBalanceListAbstract extends DelegatingList<TinyBalance> implements MithraDatedTransactionalList<TinyBalance>
+{
+	public TinyBalanceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TinyBalanceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TinyBalanceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TinyBalanceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TinyBalance[] elements()
+	{
+		TinyBalance[] result = new TinyBalance[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TinyBalanceList intersection(TinyBalanceList another)
+	{
+		return (TinyBalanceList)super.intersection(another);
+	}
+
+	public TinyBalance getTinyBalanceAt(int index)
+	{
+		return (TinyBalance)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.balanceId = ParaBalance.balanceId</pre>
+	* @return The test relationship
+	*/
+	public ParaBalanceList getTestRelationships()
+	{
+		return (ParaBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceFinder.testRelationship());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = NonAuditedBalance.interest</pre>
+	* @return non audited balance by interest
+	*/
+	public NonAuditedBalanceList getNonAuditedBalanceByInterest()
+	{
+		return (NonAuditedBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceFinder.nonAuditedBalanceByInterest());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		return (AuditOnlyBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceFinder.auditedBalanceByInterest());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return audited balance by interest for quantity
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterestForQuantity(double quantity)
+	{
+		return (AuditOnlyBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceFinder.auditedBalanceByInterestForQuantity(quantity));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = NonAuditedBalance.interest and NonAuditedBalance.quantity > {quantity} and NonAuditedBalance.interest = AuditOnlyBalance.interest
+	and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return chained filtered
+	*/
+	public AuditOnlyBalanceList getChainedFiltered(double quantity)
+	{
+		return (AuditOnlyBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceFinder.chainedFiltered(quantity));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TinyBalanceFinder.getMithraObjectPortal();
+	}
+
+	public TinyBalanceList getNonPersistentCopy()
+	{
+		TinyBalanceList result = new TinyBalanceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TinyBalanceList asAdhoc()
+	{
+		return (TinyBalanceList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TinyBalance> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TinyBalanceList merge(MithraTransactionalList<TinyBalance> incoming, TopLevelMergeOptions<TinyBalance> mergeOptions)
+	{
+		return (TinyBalanceList) super.merge(incoming, mergeOptions);
+	}
+
+	public TinyBalanceList getDetachedCopy()
+	{
+		TinyBalanceList result = new TinyBalanceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(TinyBalanceFinder.balanceId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(TinyBalanceFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TinyBalanceFinder.acmapCode(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(TinyBalanceFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
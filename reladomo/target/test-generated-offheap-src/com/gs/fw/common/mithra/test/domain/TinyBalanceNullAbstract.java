@@ -0,0 +1,974 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TinyBalanceNullAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		TinyBalanceNullFinder.businessDate()
+	,
+		TinyBalanceNullFinder.processingDate()
+	, TinyBalanceNullFinder.zGetDoubleAttributes(),TinyBalanceNullFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TinyBalanceNull.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fortestRelationship = new TestRelationshipRhs();
+	private static final class TestRelationshipRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = ParaBalanceFinder.businessDate();
+		private AsOfAttribute processingDate = ParaBalanceFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TinyBalanceNull _castedSrcObject = (TinyBalanceNull) _srcObject;
+			TinyBalanceNullData _castedSrcData = (TinyBalanceNullData) _srcData;
+			ParaBalanceData _castedTargetData = (ParaBalanceData) _targetData;
+			if (_castedSrcData.getBalanceId() == _castedTargetData.getBalanceId() && _castedSrcData.getAcmapCode()!= null && _castedSrcData.getAcmapCode().equals(_castedTargetData.getAcmapCode()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TinyBalanceNullData _castedSrcData = (TinyBalanceNullData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getBalanceId()),HashUtil.hash(_castedSrcData.getAcmapCode()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TinyBalanceNullData _castedSrcData = (TinyBalanceNullData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getBalanceId()),HashUtil.offHeapHash(_castedSrcData.zGetAcmapCodeAsInt()));
+		}
+	}
+
+	public TinyBalanceNullAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TinyBalanceNullFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TinyBalanceNullFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TinyBalanceNullAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public TinyBalanceNullData zSynchronizedGetData()
+	{
+		return (TinyBalanceNullData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TinyBalanceNullFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TinyBalanceNullFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TinyBalanceNull zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TinyBalanceNull original = (TinyBalanceNull) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TinyBalanceNull copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TinyBalanceNull) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TinyBalanceNull copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TinyBalanceNull) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			this.processingDate == null || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TinyBalanceNull getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TinyBalanceNullAbstract result = (TinyBalanceNullAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TinyBalanceNull ) result;
+	}
+
+	public TinyBalanceNull zFindOriginal()
+	{
+		TinyBalanceNullData data = (TinyBalanceNullData) this.currentData;
+		Operation op;
+		op = TinyBalanceNullFinder.balanceId().eq(data.getBalanceId());
+		op = op.and(TinyBalanceNullFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(TinyBalanceNullFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TinyBalanceNullFinder.processingDate().eq(this.getProcessingDate()));
+		return TinyBalanceNullFinder.findOne(op);
+	}
+
+	public TinyBalanceNull getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TinyBalanceNullAbstract result = (TinyBalanceNullAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TinyBalanceNull ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TinyBalanceNull copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TinyBalanceNull) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TinyBalanceNull copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TinyBalanceNull) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TinyBalanceNullData data = (TinyBalanceNullData) this.currentData;
+			Operation op = TinyBalanceNullFinder.businessDate().eq(this.businessDate);
+			op = op.and(TinyBalanceNullFinder.processingDate().eq(this.processingDate));
+			op = op.and(TinyBalanceNullFinder.balanceId().eq(data.getBalanceId()));
+			op = op.and(TinyBalanceNullFinder.acmapCode().eq(data.getAcmapCode()));
+			return TinyBalanceNullFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TinyBalanceNullData data = (TinyBalanceNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TinyBalanceNullFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TinyBalanceNullData data = (TinyBalanceNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceIdNull()
+	{
+		return this.zSynchronizedGetData().isBalanceIdNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TinyBalanceNullFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(TinyBalanceNullFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public int getBalanceId()
+	{
+		return this.zSynchronizedGetData().getBalanceId();
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(TinyBalanceNullFinder.balanceId(), newValue, true ,false);
+	}
+
+	public void setBalanceIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TinyBalanceNullFinder.balanceId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceNullFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceNullFinder.businessDateTo(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceNullFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceNullFinder.processingDateTo(), newValue, false );
+	}
+
+	public double getQuantity()
+	{
+		TinyBalanceNullData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(TinyBalanceNullFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(TinyBalanceNullFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, TinyBalanceNullFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, TinyBalanceNullFinder.quantity(), false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TinyBalanceNullFinder.quantity(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TinyBalanceNullData data2 = (TinyBalanceNullData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TinyBalanceNullFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(TinyBalanceNullFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TinyBalanceNullFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TinyBalanceNullData _newData = (TinyBalanceNullData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TinyBalanceNullData _newData = (TinyBalanceNullData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TinyBalanceNullData _newData = (TinyBalanceNullData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.balanceId = ParaBalance.balanceId</pre>
+	* @return The test relationship
+	*/
+	public ParaBalance getTestRelationship()
+	{
+		ParaBalance _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceNullData _data = (TinyBalanceNullData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ParaBalanceFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fortestRelationship,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (ParaBalance) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceNullFinder.testRelationship().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TinyBalanceNullFinder.testRelationship().zGetRelationshipMultiExtractor(), this);
+					_result = ParaBalanceFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ParaBalance) _data.getTestRelationship();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceNullFinder.testRelationship().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ParaBalanceFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setTestRelationship(ParaBalance testRelationship)
+	{
+		ParaBalance _testRelationship = (ParaBalance) testRelationship;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TinyBalanceNullData _data = (TinyBalanceNullData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setTestRelationship(_testRelationship);
+			if (_testRelationship == null)
+			{
+				this.setBalanceId(0);
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setBalanceId(
+					_testRelationship.getBalanceId());
+				this.setAcmapCode(
+					_testRelationship.getAcmapCode());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_testRelationship == null)
+			{
+				this.setBalanceId(0);
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setBalanceId(
+					_testRelationship.getBalanceId());
+				this.setAcmapCode(
+					_testRelationship.getAcmapCode());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = NonAuditedBalance.interest</pre>
+	* @return non audited balance by interest
+	*/
+	public NonAuditedBalanceList getNonAuditedBalanceByInterest()
+	{
+		NonAuditedBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceNullData _data = (TinyBalanceNullData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceNullFinder.nonAuditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new NonAuditedBalanceList( new None (
+					NonAuditedBalanceFinder.balanceId()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isQuantityNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TinyBalanceNullFinder.nonAuditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+					_result = new NonAuditedBalanceList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new NonAuditedBalanceList( new None (
+						NonAuditedBalanceFinder.balanceId()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (NonAuditedBalanceList) _data.getNonAuditedBalanceByInterest();
+			if (_result == null)
+			{
+				if (!_data.isQuantityNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceNullFinder.nonAuditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new NonAuditedBalanceList( new None (
+						NonAuditedBalanceFinder.balanceId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new NonAuditedBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setNonAuditedBalanceByInterest(NonAuditedBalanceList nonAuditedBalanceByInterest)
+	{
+		NonAuditedBalanceList _nonAuditedBalanceByInterest = (NonAuditedBalanceList) nonAuditedBalanceByInterest;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TinyBalanceNullData _data = (TinyBalanceNullData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setNonAuditedBalanceByInterest(_nonAuditedBalanceByInterest);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceNullData _data = (TinyBalanceNullData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceNullFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new AuditOnlyBalanceList( new None (
+					AuditOnlyBalanceFinder.balanceId()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isQuantityNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TinyBalanceNullFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+					_result = new AuditOnlyBalanceList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new AuditOnlyBalanceList( new None (
+						AuditOnlyBalanceFinder.balanceId()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditOnlyBalanceList) _data.getAuditedBalanceByInterest();
+			if (_result == null)
+			{
+				if (!_data.isQuantityNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(TinyBalanceNullFinder.auditedBalanceByInterest().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new AuditOnlyBalanceList( new None (
+						AuditOnlyBalanceFinder.balanceId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setAuditedBalanceByInterest(AuditOnlyBalanceList auditedBalanceByInterest)
+	{
+		AuditOnlyBalanceList _auditedBalanceByInterest = (AuditOnlyBalanceList) auditedBalanceByInterest;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TinyBalanceNullData _data = (TinyBalanceNullData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAuditedBalanceByInterest(_auditedBalanceByInterest);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return audited balance by interest for quantity
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterestForQuantity(double quantity)
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceNullData _data = (TinyBalanceNullData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = AuditOnlyBalanceFinder.interest().eq(_data.getQuantity()).and(AuditOnlyBalanceFinder.acmapCode().eq(_data.getAcmapCode())).and(AuditOnlyBalanceFinder.processingDate().eq(this.getProcessingDate())).and(AuditOnlyBalanceFinder.quantity().greaterThan(quantity));
+				}
+			}
+			else 
+			{
+				_result = new AuditOnlyBalanceList( new None (
+					AuditOnlyBalanceFinder.balanceId()));
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = NonAuditedBalance.interest and NonAuditedBalance.quantity > {quantity} and NonAuditedBalance.interest = AuditOnlyBalance.interest
+	and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return chained filtered
+	*/
+	public AuditOnlyBalanceList getChainedFiltered(double quantity)
+	{
+		AuditOnlyBalanceList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TinyBalanceNullData _data = (TinyBalanceNullData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isQuantityNull())
+			{
+				{
+					_op = new MappedOperation(TinyBalanceNullFinder.zGetChainedFilteredMapperFragment(quantity), NonAuditedBalanceFinder.interest().eq(_data.getQuantity()).and(NonAuditedBalanceFinder.acmapCode().eq(_data.getAcmapCode())).and(NonAuditedBalanceFinder.businessDate().eq(this.getBusinessDate())).and(NonAuditedBalanceFinder.quantity().greaterThan(quantity)));
+				}
+			}
+			else 
+			{
+				_result = new AuditOnlyBalanceList( new None (
+					AuditOnlyBalanceFinder.balanceId()));
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new AuditOnlyBalanceList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public Cache zGetCache()
+	{
+		return TinyBalanceNullFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TinyBalanceNullData.TinyBalanceNullDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TinyBalanceNullData data = (TinyBalanceNullData) TinyBalanceNullFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TinyBalanceNull has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTinyBalanceNullData( TinyBalanceNullData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTinyBalanceNullData( TinyBalanceNullData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TinyBalanceNullFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TinyBalanceNullFinder.getMithraObjectPortal();
+	}
+
+	public TinyBalanceNull getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TinyBalanceNullAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TinyBalanceNullAbstract from = (TinyBalanceNullAbstract) f;
+		TinyBalanceNullData newData = from.zSynchronizedGetData();
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TinyBalanceNullData _newData = (TinyBalanceNullData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TinyBalanceNullData _newData = (TinyBalanceNullData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TinyBalanceNullAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TinyBalanceNullAbstract from = (TinyBalanceNullAbstract)f;
+		TinyBalanceNullData newData = from.zSynchronizedGetData();
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TinyBalanceNullData newData = (TinyBalanceNullData) d;
+		TinyBalanceNullData data = (TinyBalanceNullData) nd;
+		if (TinyBalanceNullFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TinyBalanceNullFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TinyBalanceNullFinder.balanceId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TinyBalanceNullFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TinyBalanceNullFinder.acmapCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TinyBalanceNullFinder.balanceId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, TinyBalanceNullFinder.quantity(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TinyBalanceNullData data = ((TinyBalanceNullData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TinyBalanceNullData data = ((TinyBalanceNullData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TinyBalanceNullData data = ((TinyBalanceNullData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), TinyBalanceNullFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), TinyBalanceNullFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TinyBalanceNullData localData = (TinyBalanceNullData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,226 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TinyBalanceNullListAbstract extends DelegatingList<TinyBalanceNull> implements MithraDatedTransactionalList<TinyBalanceNull>
+{
+	public TinyBalanceNullListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TinyBalanceNullListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TinyBalanceNullListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TinyBalanceNullListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TinyBalanceNull[] elements()
+	{
+		TinyBalanceNull[] result = new TinyBalanceNull[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TinyBalanceNullList intersection(TinyBalanceNullList another)
+	{
+		return (TinyBalanceNullList)super.intersection(another);
+	}
+
+	public TinyBalanceNull getTinyBalanceNullAt(int index)
+	{
+		return (TinyBalanceNull)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.balanceId = ParaBalance.balanceId</pre>
+	* @return The test relationship
+	*/
+	public ParaBalanceList getTestRelationships()
+	{
+		return (ParaBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceNullFinder.testRelationship());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = NonAuditedBalance.interest</pre>
+	* @return non audited balance by interest
+	*/
+	public NonAuditedBalanceList getNonAuditedBalanceByInterest()
+	{
+		return (NonAuditedBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceNullFinder.nonAuditedBalanceByInterest());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		return (AuditOnlyBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceNullFinder.auditedBalanceByInterest());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return audited balance by interest for quantity
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterestForQuantity(double quantity)
+	{
+		return (AuditOnlyBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceNullFinder.auditedBalanceByInterestForQuantity(quantity));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = NonAuditedBalance.interest and NonAuditedBalance.quantity > {quantity} and NonAuditedBalance.interest = AuditOnlyBalance.interest
+	and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return chained filtered
+	*/
+	public AuditOnlyBalanceList getChainedFiltered(double quantity)
+	{
+		return (AuditOnlyBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceNullFinder.chainedFiltered(quantity));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TinyBalanceNullFinder.getMithraObjectPortal();
+	}
+
+	public TinyBalanceNullList getNonPersistentCopy()
+	{
+		TinyBalanceNullList result = new TinyBalanceNullList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TinyBalanceNullList asAdhoc()
+	{
+		return (TinyBalanceNullList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TinyBalanceNull> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TinyBalanceNullList merge(MithraTransactionalList<TinyBalanceNull> incoming, TopLevelMergeOptions<TinyBalanceNull> mergeOptions)
+	{
+		return (TinyBalanceNullList) super.merge(incoming, mergeOptions);
+	}
+
+	public TinyBalanceNullList getDetachedCopy()
+	{
+		TinyBalanceNullList result = new TinyBalanceNullList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(TinyBalanceNullFinder.balanceId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(TinyBalanceNullFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceNullFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceNullFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceNullFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceNullFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TinyBalanceNullFinder.acmapCode(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(TinyBalanceNullFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
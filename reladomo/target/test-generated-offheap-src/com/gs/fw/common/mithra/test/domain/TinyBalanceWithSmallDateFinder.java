@@ -0,0 +1,952 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TinyBalanceWithSmallDateFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TinyBalanceWithSmallDate";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TinyBalanceWithSmallDate";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TinyBalanceWithSmallDate");
+	private static final TinyBalanceWithSmallDateSingleFinder<TinyBalanceWithSmallDate, Object, TinyBalanceWithSmallDate> finder = new TinyBalanceWithSmallDateSingleFinder<TinyBalanceWithSmallDate, Object, TinyBalanceWithSmallDate>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TinyBalanceWithSmallDateFinder.TinyBalanceWithSmallDateRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("balanceId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("testRelationship");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = TinyBalanceWithSmallDateFinder.balanceId().constructEqualityMapper(ParaBalanceFinder.balanceId());
+			result[1] = ParaBalanceFinder.balanceId().constructEqualityMapper(TinyBalanceWithSmallDateFinder.balanceId());
+			result[2] = TinyBalanceWithSmallDateFinder.acmapCode().constructEqualityMapper(ParaBalanceFinder.acmapCode());
+			result[3] = ParaBalanceFinder.acmapCode().constructEqualityMapper(TinyBalanceWithSmallDateFinder.acmapCode());
+			result[4] = TinyBalanceWithSmallDateFinder.businessDate().constructEqualityMapper(ParaBalanceFinder.businessDate());
+			result[5] = ParaBalanceFinder.businessDate().constructEqualityMapper(TinyBalanceWithSmallDateFinder.businessDate());
+			result[6] = TinyBalanceWithSmallDateFinder.processingDate().constructEqualityMapper(ParaBalanceFinder.processingDate());
+			result[7] = ParaBalanceFinder.processingDate().constructEqualityMapper(TinyBalanceWithSmallDateFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return TinyBalanceWithSmallDateFinder.zSourceAttributeType;
+	}
+
+	public static TinyBalanceWithSmallDate findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TinyBalanceWithSmallDate findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TinyBalanceWithSmallDateList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TinyBalanceWithSmallDateList) finder.findMany(operation);
+	}
+
+	public static TinyBalanceWithSmallDateList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TinyBalanceWithSmallDateList) finder.findManyBypassCache(operation);
+	}
+
+	private static TinyBalanceWithSmallDate findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TinyBalanceWithSmallDate) FinderUtils.findOne(found);
+	}
+
+	public static TinyBalanceWithSmallDate findByPrimaryKey(int balanceId, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(balanceId, acmapCode, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TinyBalanceWithSmallDateData _castedTargetData = (TinyBalanceWithSmallDateData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getBalanceId() && _bean.getO1AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return TinyBalanceWithSmallDateFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TinyBalanceWithSmallDateFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static TinyBalanceWithSmallDate zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TinyBalanceWithSmallDate) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TinyBalanceWithSmallDateRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TinyBalanceWithSmallDate, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return TinyBalanceWithSmallDateFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> balanceId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private TinyBalanceWithSmallDateTestRelationshipFinderSubclass<ParentOwnerType> testRelationship;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TinyBalanceWithSmallDateRelatedFinder()
+		{
+			super();
+		}
+
+		public TinyBalanceWithSmallDateRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TinyBalanceWithSmallDateFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TinyBalanceWithSmallDateFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TinyBalanceWithSmallDateFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TinyBalanceWithSmallDateFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.balanceId();
+			attributes[1] = this.quantity();
+			attributes[2] = this.businessDateFrom();
+			attributes[3] = this.businessDateTo();
+			attributes[4] = this.processingDateFrom();
+			attributes[5] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.testRelationship());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TinyBalanceWithSmallDate findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TinyBalanceWithSmallDateFinder.findOne(operation, false);
+		}
+
+		public TinyBalanceWithSmallDate findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TinyBalanceWithSmallDateFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TinyBalanceWithSmallDate> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TinyBalanceWithSmallDateList((Operation) operation);
+		}
+
+		public MithraList<? extends TinyBalanceWithSmallDate> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TinyBalanceWithSmallDateList result = (TinyBalanceWithSmallDateList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TinyBalanceWithSmallDate> constructEmptyList()
+		{
+			return new TinyBalanceWithSmallDateList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -538040989;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return TinyBalanceWithSmallDateFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> balanceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.balanceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("BALANCE_ID","","balanceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(TinyBalanceWithSmallDateFinder.balanceId(), this.mapper, this.zGetValueSelector());
+				this.balanceId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_QUANTITY_M","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,48,4,0, false) :
+					new MappedDoubleAttribute(TinyBalanceWithSmallDateFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,true,false,TinyBalanceWithSmallDateFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TinyBalanceWithSmallDateFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,true,true,TinyBalanceWithSmallDateFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TinyBalanceWithSmallDateFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TinyBalanceWithSmallDateFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TinyBalanceWithSmallDateFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TinyBalanceWithSmallDateFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TinyBalanceWithSmallDateFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(TinyBalanceWithSmallDateFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TinyBalanceWithSmallDateFinder.businessDateInfinity,false,false,TinyBalanceWithSmallDateFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TinyBalanceWithSmallDateFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TinyBalanceWithSmallDateFinder.processingDateInfinity,false,true,TinyBalanceWithSmallDateFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TinyBalanceWithSmallDateFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ParaBalanceFinder.ParaBalanceSingleFinderForRelatedClasses<ParentOwnerType, ParaBalance, TinyBalanceWithSmallDate> testRelationship()
+		{
+			TinyBalanceWithSmallDateTestRelationshipFinderSubclass<ParentOwnerType> result = this.testRelationship;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TinyBalanceWithSmallDateFinder.zGetTinyBalanceWithSmallDateTestRelationshipReverseMapper());
+				newMapper.setToMany(false);
+				result = new TinyBalanceWithSmallDateTestRelationshipFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.testRelationship = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return TinyBalanceWithSmallDateFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TinyBalanceWithSmallDateFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TinyBalanceWithSmallDateFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TinyBalanceWithSmallDateCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TinyBalanceWithSmallDateRelatedFinder<ParentOwnerType, ReturnType, TinyBalanceWithSmallDateList, OwnerType>
+	{
+		public TinyBalanceWithSmallDateCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TinyBalanceWithSmallDateCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TinyBalanceWithSmallDateCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TinyBalanceWithSmallDateCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TinyBalanceWithSmallDateSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TinyBalanceWithSmallDateRelatedFinder<ParentOwnerType, ReturnType, TinyBalanceWithSmallDateList, OwnerType>
+	implements ToOneFinder
+	{
+		public TinyBalanceWithSmallDateSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TinyBalanceWithSmallDateSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TinyBalanceWithSmallDate other)
+		{
+			return this.balanceId().eq(other.getBalanceId())
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TinyBalanceWithSmallDate findByPrimaryKey(int balanceId, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+		{
+			TinyBalanceWithSmallDate _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(balanceId);
+				_bean.setO1(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TinyBalanceWithSmallDate) _related;
+			if (_related == null)
+			{
+				_op = this.balanceId().eq(balanceId).and(this.acmapCode().eq(acmapCode)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TinyBalanceWithSmallDateSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TinyBalanceWithSmallDateSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TinyBalanceWithSmallDateSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper testRelationshipReverseMapper = null;
+	public static Mapper zGetTinyBalanceWithSmallDateTestRelationshipReverseMapper()
+	{
+		if (testRelationshipReverseMapper == null)
+		{
+			testRelationshipReverseMapper = zConstructTinyBalanceWithSmallDateTestRelationshipReverseMapper();
+		}
+
+		return testRelationshipReverseMapper;
+	}
+
+	private static Mapper testRelationshipMapper = null;
+	public static Mapper zGetTinyBalanceWithSmallDateTestRelationshipMapper()
+	{
+		if (testRelationshipMapper == null)
+		{
+			testRelationshipMapper = zConstructTinyBalanceWithSmallDateTestRelationshipMapper();
+		}
+
+		return testRelationshipMapper;
+	}
+
+	private static Mapper testRelationshipPureReverseMapper = null;
+	public static Mapper zGetTinyBalanceWithSmallDateTestRelationshipPureReverseMapper()
+	{
+		if (testRelationshipPureReverseMapper == null)
+		{
+			testRelationshipPureReverseMapper = zConstructTinyBalanceWithSmallDateTestRelationshipPureReverseMapper();
+		}
+
+		return testRelationshipPureReverseMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceWithSmallDateTestRelationshipPureReverseMapper()
+	{
+		InternalList testRelationshipMapperMapperList = new InternalList(4);
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(0));
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(2));
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(4));
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(6));
+		Mapper testRelationshipMapper = new MultiEqualityMapper(testRelationshipMapperMapperList);
+		testRelationshipMapper.setName("testRelationship");
+		return testRelationshipMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceWithSmallDateTestRelationshipReverseMapper()
+	{
+		InternalList testRelationshipMapperMapperList = new InternalList(4);
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(0));
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(2));
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(4));
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(6));
+		Mapper testRelationshipMapper = new MultiEqualityMapper(testRelationshipMapperMapperList);
+		testRelationshipMapper.setName("testRelationship");
+		return testRelationshipMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceWithSmallDateTestRelationshipMapper()
+	{
+		InternalList testRelationshipMapperMapperList = new InternalList(4);
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(1));
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(3));
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(5));
+		testRelationshipMapperMapperList.add(TinyBalanceWithSmallDateFinder.zGetConstantJoin(7));
+		Mapper testRelationshipMapper = new MultiEqualityMapper(testRelationshipMapperMapperList);
+		testRelationshipMapper.setName("testRelationship_Reverse");
+		return testRelationshipMapper;
+	}
+
+	/** maps to TINY_BALANCE_SMALL.BALANCE_ID **/
+	public static IntegerAttribute<TinyBalanceWithSmallDate> balanceId()
+	{
+		return finder.balanceId();
+	}
+
+	/** maps to TINY_BALANCE_SMALL.POS_QUANTITY_M **/
+	public static DoubleAttribute<TinyBalanceWithSmallDate> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to TINY_BALANCE_SMALL.FROM_Z **/
+	public static TimestampAttribute<TinyBalanceWithSmallDate> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TINY_BALANCE_SMALL.THRU_Z **/
+	public static TimestampAttribute<TinyBalanceWithSmallDate> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to TINY_BALANCE_SMALL.IN_Z **/
+	public static TimestampAttribute<TinyBalanceWithSmallDate> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TINY_BALANCE_SMALL.OUT_Z **/
+	public static TimestampAttribute<TinyBalanceWithSmallDate> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static StringAttribute<TinyBalanceWithSmallDate> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static AsOfAttribute<TinyBalanceWithSmallDate> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TinyBalanceWithSmallDate> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ParaBalanceFinder.ParaBalanceSingleFinderForRelatedClasses<TinyBalanceWithSmallDate, ParaBalance, TinyBalanceWithSmallDate> testRelationship()
+	{
+		return finder.testRelationship();
+	}
+
+	public static class TinyBalanceWithSmallDateTestRelationshipFinderSubclass<ParentOwnerType> extends ParaBalanceFinder.ParaBalanceSingleFinderForRelatedClasses<ParentOwnerType, ParaBalance, TinyBalanceWithSmallDate>
+	{
+		public TinyBalanceWithSmallDateTestRelationshipFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "testRelationship";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ParaBalanceFinder.balanceId(),
+				ParaBalanceFinder.acmapCode(),
+				ParaBalanceFinder.businessDate(),
+				ParaBalanceFinder.processingDate()).withExtractors(
+				TinyBalanceWithSmallDateFinder.balanceId(),
+				TinyBalanceWithSmallDateFinder.acmapCode(),
+				TinyBalanceWithSmallDateFinder.businessDate(),
+				TinyBalanceWithSmallDateFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TinyBalanceWithSmallDateTestRelationshipFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ParaBalance plainValueOf(TinyBalanceWithSmallDate _obj)
+		{
+			return _obj.getTestRelationship();
+		}
+
+		protected ParaBalanceList plainListValueOf(Object _obj)
+		{
+			return ((TinyBalanceWithSmallDateList)_obj).getTestRelationships();
+		}
+	}
+
+	public static Operation eq(TinyBalanceWithSmallDate other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(balanceId());
+	}
+
+	public static TinyBalanceWithSmallDateSingleFinder<TinyBalanceWithSmallDate, Object, TinyBalanceWithSmallDate> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = quantity();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TinyBalanceWithSmallDate");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
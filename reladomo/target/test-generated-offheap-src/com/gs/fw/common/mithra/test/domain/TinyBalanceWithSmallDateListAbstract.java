@@ -0,0 +1,185 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TinyBalanceWithSmallDateListAbstract extends DelegatingList<TinyBalanceWithSmallDate> implements MithraDatedTransactionalList<TinyBalanceWithSmallDate>
+{
+	public TinyBalanceWithSmallDateListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TinyBalanceWithSmallDateListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TinyBalanceWithSmallDateListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TinyBalanceWithSmallDateListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TinyBalanceWithSmallDate[] elements()
+	{
+		TinyBalanceWithSmallDate[] result = new TinyBalanceWithSmallDate[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TinyBalanceWithSmallDateList intersection(TinyBalanceWithSmallDateList another)
+	{
+		return (TinyBalanceWithSmallDateList)super.intersection(another);
+	}
+
+	public TinyBalanceWithSmallDate getTinyBalanceWithSmallDateAt(int index)
+	{
+		return (TinyBalanceWithSmallDate)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.balanceId = ParaBalance.balanceId</pre>
+	* @return The test relationship
+	*/
+	public ParaBalanceList getTestRelationships()
+	{
+		return (ParaBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceWithSmallDateFinder.testRelationship());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TinyBalanceWithSmallDateFinder.getMithraObjectPortal();
+	}
+
+	public TinyBalanceWithSmallDateList getNonPersistentCopy()
+	{
+		TinyBalanceWithSmallDateList result = new TinyBalanceWithSmallDateList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TinyBalanceWithSmallDateList asAdhoc()
+	{
+		return (TinyBalanceWithSmallDateList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TinyBalanceWithSmallDate> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TinyBalanceWithSmallDateList merge(MithraTransactionalList<TinyBalanceWithSmallDate> incoming, TopLevelMergeOptions<TinyBalanceWithSmallDate> mergeOptions)
+	{
+		return (TinyBalanceWithSmallDateList) super.merge(incoming, mergeOptions);
+	}
+
+	public TinyBalanceWithSmallDateList getDetachedCopy()
+	{
+		TinyBalanceWithSmallDateList result = new TinyBalanceWithSmallDateList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(TinyBalanceWithSmallDateFinder.balanceId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(TinyBalanceWithSmallDateFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceWithSmallDateFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceWithSmallDateFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceWithSmallDateFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceWithSmallDateFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TinyBalanceWithSmallDateFinder.acmapCode(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(TinyBalanceWithSmallDateFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
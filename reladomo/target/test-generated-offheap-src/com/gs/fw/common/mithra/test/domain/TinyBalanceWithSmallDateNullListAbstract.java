@@ -0,0 +1,185 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TinyBalanceWithSmallDateNullListAbstract extends DelegatingList<TinyBalanceWithSmallDateNull> implements MithraDatedTransactionalList<TinyBalanceWithSmallDateNull>
+{
+	public TinyBalanceWithSmallDateNullListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TinyBalanceWithSmallDateNullListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TinyBalanceWithSmallDateNullListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TinyBalanceWithSmallDateNullListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TinyBalanceWithSmallDateNull[] elements()
+	{
+		TinyBalanceWithSmallDateNull[] result = new TinyBalanceWithSmallDateNull[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TinyBalanceWithSmallDateNullList intersection(TinyBalanceWithSmallDateNullList another)
+	{
+		return (TinyBalanceWithSmallDateNullList)super.intersection(another);
+	}
+
+	public TinyBalanceWithSmallDateNull getTinyBalanceWithSmallDateNullAt(int index)
+	{
+		return (TinyBalanceWithSmallDateNull)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.balanceId = ParaBalance.balanceId</pre>
+	* @return The test relationship
+	*/
+	public ParaBalanceList getTestRelationships()
+	{
+		return (ParaBalanceList) this.zGetDelegated().resolveRelationship(this, TinyBalanceWithSmallDateNullFinder.testRelationship());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TinyBalanceWithSmallDateNullFinder.getMithraObjectPortal();
+	}
+
+	public TinyBalanceWithSmallDateNullList getNonPersistentCopy()
+	{
+		TinyBalanceWithSmallDateNullList result = new TinyBalanceWithSmallDateNullList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TinyBalanceWithSmallDateNullList asAdhoc()
+	{
+		return (TinyBalanceWithSmallDateNullList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TinyBalanceWithSmallDateNull> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TinyBalanceWithSmallDateNullList merge(MithraTransactionalList<TinyBalanceWithSmallDateNull> incoming, TopLevelMergeOptions<TinyBalanceWithSmallDateNull> mergeOptions)
+	{
+		return (TinyBalanceWithSmallDateNullList) super.merge(incoming, mergeOptions);
+	}
+
+	public TinyBalanceWithSmallDateNullList getDetachedCopy()
+	{
+		TinyBalanceWithSmallDateNullList result = new TinyBalanceWithSmallDateNullList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(TinyBalanceWithSmallDateNullFinder.balanceId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(TinyBalanceWithSmallDateNullFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceWithSmallDateNullFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceWithSmallDateNullFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceWithSmallDateNullFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TinyBalanceWithSmallDateNullFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TinyBalanceWithSmallDateNullFinder.acmapCode(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(TinyBalanceWithSmallDateNullFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
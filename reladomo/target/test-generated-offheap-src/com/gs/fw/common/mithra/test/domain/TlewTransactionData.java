@@ -0,0 +1,3461 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TlewTransactionData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 234;
+	boolean isAcctIdNull();
+	int getAcctId();
+	void setAcctId(int value);
+	void setAcctIdNull();
+	boolean isBaseXRateNull();
+	double getBaseXRate();
+	void setBaseXRate(double value);
+	void setBaseXRateNull();
+	boolean isBusinessDateNull();
+	Timestamp getBusinessDate();
+	void setBusinessDate(Timestamp value);
+	void setBusinessDateNull();
+	long zGetBusinessDateAsLong();
+	boolean isBuySellCodeNull();
+	String getBuySellCode();
+	void setBuySellCode(String value);
+	void setBuySellCodeNull();
+	int zGetBuySellCodeAsInt();
+	boolean isCalculatorNameNull();
+	String getCalculatorName();
+	void setCalculatorName(String value);
+	void setCalculatorNameNull();
+	int zGetCalculatorNameAsInt();
+	boolean isCashSettleCodeNull();
+	String getCashSettleCode();
+	void setCashSettleCode(String value);
+	void setCashSettleCodeNull();
+	int zGetCashSettleCodeAsInt();
+	boolean isChangeCodeNull();
+	short getChangeCode();
+	void setChangeCode(short value);
+	void setChangeCodeNull();
+	boolean isCreateCodeNull();
+	int getCreateCode();
+	void setCreateCode(int value);
+	void setCreateCodeNull();
+	boolean isCrossAcctIdNull();
+	int getCrossAcctId();
+	void setCrossAcctId(int value);
+	void setCrossAcctIdNull();
+	boolean isCurrentNotionalValueNull();
+	double getCurrentNotionalValue();
+	void setCurrentNotionalValue(double value);
+	void setCurrentNotionalValueNull();
+	boolean isDebtClassNull();
+	String getDebtClass();
+	void setDebtClass(String value);
+	void setDebtClassNull();
+	int zGetDebtClassAsInt();
+	boolean isExternalTradeIdNull();
+	String getExternalTradeId();
+	void setExternalTradeId(String value);
+	void setExternalTradeIdNull();
+	int zGetExternalTradeIdAsInt();
+	boolean isFactorFeeAdjustmentNull();
+	double getFactorFeeAdjustment();
+	void setFactorFeeAdjustment(double value);
+	void setFactorFeeAdjustmentNull();
+	boolean isFirmRiskAcctNameNull();
+	String getFirmRiskAcctName();
+	void setFirmRiskAcctName(String value);
+	void setFirmRiskAcctNameNull();
+	int zGetFirmRiskAcctNameAsInt();
+	boolean isInitialNotionalNull();
+	double getInitialNotional();
+	void setInitialNotional(double value);
+	void setInitialNotionalNull();
+	boolean isInstrumentIdNull();
+	int getInstrumentId();
+	void setInstrumentId(int value);
+	void setInstrumentIdNull();
+	boolean isInterCompanyTypeNull();
+	int getInterCompanyType();
+	void setInterCompanyType(int value);
+	void setInterCompanyTypeNull();
+	boolean isIntercompanyRecFlagNull();
+	String getIntercompanyRecFlag();
+	void setIntercompanyRecFlag(String value);
+	void setIntercompanyRecFlagNull();
+	int zGetIntercompanyRecFlagAsInt();
+	boolean isNativeCostNull();
+	double getNativeCost();
+	void setNativeCost(double value);
+	void setNativeCostNull();
+	boolean isNativeCurrencyCodeNull();
+	String getNativeCurrencyCode();
+	void setNativeCurrencyCode(String value);
+	void setNativeCurrencyCodeNull();
+	int zGetNativeCurrencyCodeAsInt();
+	boolean isNativeMarketValueNull();
+	double getNativeMarketValue();
+	void setNativeMarketValue(double value);
+	void setNativeMarketValueNull();
+	boolean isNotionalValueNull();
+	double getNotionalValue();
+	void setNotionalValue(double value);
+	void setNotionalValueNull();
+	boolean isPayCurrencyCodeNull();
+	String getPayCurrencyCode();
+	void setPayCurrencyCode(String value);
+	void setPayCurrencyCodeNull();
+	int zGetPayCurrencyCodeAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isProductGlobalClassNull();
+	long getProductGlobalClass();
+	void setProductGlobalClass(long value);
+	void setProductGlobalClassNull();
+	boolean isReceiveCurrencyCodeNull();
+	String getReceiveCurrencyCode();
+	void setReceiveCurrencyCode(String value);
+	void setReceiveCurrencyCodeNull();
+	int zGetReceiveCurrencyCodeAsInt();
+	boolean isReplacementCostNull();
+	double getReplacementCost();
+	void setReplacementCost(double value);
+	void setReplacementCostNull();
+	boolean isSettleDateNull();
+	Timestamp getSettleDate();
+	void setSettleDate(Timestamp value);
+	void setSettleDateNull();
+	long zGetSettleDateAsLong();
+	boolean isSettlementTypeNull();
+	int getSettlementType();
+	void setSettlementType(int value);
+	void setSettlementTypeNull();
+	boolean isTaxWithholdingAdjustmentNull();
+	double getTaxWithholdingAdjustment();
+	void setTaxWithholdingAdjustment(double value);
+	void setTaxWithholdingAdjustmentNull();
+	boolean isTradeDateNull();
+	Timestamp getTradeDate();
+	void setTradeDate(Timestamp value);
+	void setTradeDateNull();
+	long zGetTradeDateAsLong();
+	boolean isTradeQtyNull();
+	double getTradeQty();
+	void setTradeQty(double value);
+	void setTradeQtyNull();
+	boolean isTradeSubTypeNull();
+	String getTradeSubType();
+	void setTradeSubType(String value);
+	void setTradeSubTypeNull();
+	int zGetTradeSubTypeAsInt();
+	boolean isTradeTypeNull();
+	String getTradeType();
+	void setTradeType(String value);
+	void setTradeTypeNull();
+	int zGetTradeTypeAsInt();
+	boolean isTranIdNull();
+	int getTranId();
+	void setTranId(int value);
+	void setTranIdNull();
+	boolean isTranRefNull();
+	String getTranRef();
+	void setTranRef(String value);
+	void setTranRefNull();
+	int zGetTranRefAsInt();
+	boolean isUsdXRateNull();
+	double getUsdXRate();
+	void setUsdXRate(double value);
+	void setUsdXRateNull();
+	boolean isValuationAdjustmentNull();
+	double getValuationAdjustment();
+	void setValuationAdjustment(double value);
+	void setValuationAdjustmentNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TlewTransactionDataOnHeap implements TlewTransactionData
+	{
+		private byte _dataVersion;
+		private int isNullBits0 = 0;
+		private int acctId;
+		private double baseXRate;
+		private Timestamp businessDate;
+		private String buySellCode;
+		private String calculatorName;
+		private String cashSettleCode;
+		private short changeCode;
+		private int createCode;
+		private int crossAcctId;
+		private double currentNotionalValue;
+		private String debtClass;
+		private String externalTradeId;
+		private double factorFeeAdjustment;
+		private String firmRiskAcctName;
+		private double initialNotional;
+		private int instrumentId;
+		private int interCompanyType;
+		private String intercompanyRecFlag;
+		private double nativeCost;
+		private String nativeCurrencyCode;
+		private double nativeMarketValue;
+		private double notionalValue;
+		private String payCurrencyCode;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private long productGlobalClass;
+		private String receiveCurrencyCode;
+		private double replacementCost;
+		private Timestamp settleDate;
+		private int settlementType;
+		private double taxWithholdingAdjustment;
+		private Timestamp tradeDate;
+		private double tradeQty;
+		private String tradeSubType;
+		private String tradeType;
+		private int tranId;
+		private String tranRef;
+		private double usdXRate;
+		private double valuationAdjustment;
+		public boolean isBusinessDateNull()
+		{
+			return this.getBusinessDate() == null;
+		}
+
+		public boolean isBuySellCodeNull()
+		{
+			return this.getBuySellCode() == null;
+		}
+
+		public boolean isCalculatorNameNull()
+		{
+			return this.getCalculatorName() == null;
+		}
+
+		public boolean isCashSettleCodeNull()
+		{
+			return this.getCashSettleCode() == null;
+		}
+
+		public boolean isDebtClassNull()
+		{
+			return this.getDebtClass() == null;
+		}
+
+		public boolean isExternalTradeIdNull()
+		{
+			return this.getExternalTradeId() == null;
+		}
+
+		public boolean isFirmRiskAcctNameNull()
+		{
+			return this.getFirmRiskAcctName() == null;
+		}
+
+		public boolean isIntercompanyRecFlagNull()
+		{
+			return this.getIntercompanyRecFlag() == null;
+		}
+
+		public boolean isNativeCurrencyCodeNull()
+		{
+			return this.getNativeCurrencyCode() == null;
+		}
+
+		public boolean isPayCurrencyCodeNull()
+		{
+			return this.getPayCurrencyCode() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isReceiveCurrencyCodeNull()
+		{
+			return this.getReceiveCurrencyCode() == null;
+		}
+
+		public boolean isSettleDateNull()
+		{
+			return this.getSettleDate() == null;
+		}
+
+		public boolean isTradeDateNull()
+		{
+			return this.getTradeDate() == null;
+		}
+
+		public boolean isTradeSubTypeNull()
+		{
+			return this.getTradeSubType() == null;
+		}
+
+		public boolean isTradeTypeNull()
+		{
+			return this.getTradeType() == null;
+		}
+
+		public boolean isTranIdNull()
+		{
+			return false;
+		}
+
+		public boolean isTranRefNull()
+		{
+			return this.getTranRef() == null;
+		}
+
+		public boolean isCreateCodeNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isChangeCodeNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public boolean isAcctIdNull()
+		{
+			return (isNullBits0 & 1 << 2) != 0 ;
+		}
+
+		public boolean isCrossAcctIdNull()
+		{
+			return (isNullBits0 & 1 << 3) != 0 ;
+		}
+
+		public boolean isInstrumentIdNull()
+		{
+			return (isNullBits0 & 1 << 4) != 0 ;
+		}
+
+		public boolean isProductGlobalClassNull()
+		{
+			return (isNullBits0 & 1 << 5) != 0 ;
+		}
+
+		public boolean isSettlementTypeNull()
+		{
+			return (isNullBits0 & 1 << 6) != 0 ;
+		}
+
+		public boolean isInterCompanyTypeNull()
+		{
+			return (isNullBits0 & 1 << 7) != 0 ;
+		}
+
+		public boolean isUsdXRateNull()
+		{
+			return (isNullBits0 & 1 << 8) != 0 ;
+		}
+
+		public boolean isBaseXRateNull()
+		{
+			return (isNullBits0 & 1 << 9) != 0 ;
+		}
+
+		public boolean isTradeQtyNull()
+		{
+			return (isNullBits0 & 1 << 10) != 0 ;
+		}
+
+		public boolean isNativeCostNull()
+		{
+			return (isNullBits0 & 1 << 11) != 0 ;
+		}
+
+		public boolean isReplacementCostNull()
+		{
+			return (isNullBits0 & 1 << 12) != 0 ;
+		}
+
+		public boolean isNotionalValueNull()
+		{
+			return (isNullBits0 & 1 << 13) != 0 ;
+		}
+
+		public boolean isNativeMarketValueNull()
+		{
+			return (isNullBits0 & 1 << 14) != 0 ;
+		}
+
+		public boolean isInitialNotionalNull()
+		{
+			return (isNullBits0 & 1 << 15) != 0 ;
+		}
+
+		public boolean isFactorFeeAdjustmentNull()
+		{
+			return (isNullBits0 & 1 << 16) != 0 ;
+		}
+
+		public boolean isTaxWithholdingAdjustmentNull()
+		{
+			return (isNullBits0 & 1 << 17) != 0 ;
+		}
+
+		public boolean isValuationAdjustmentNull()
+		{
+			return (isNullBits0 & 1 << 18) != 0 ;
+		}
+
+		public boolean isCurrentNotionalValueNull()
+		{
+			return (isNullBits0 & 1 << 19) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.acctId);
+			out.writeDouble(this.baseXRate);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+			out.writeObject(this.buySellCode);
+			out.writeObject(this.calculatorName);
+			out.writeObject(this.cashSettleCode);
+			out.writeShort(this.changeCode);
+			out.writeInt(this.createCode);
+			out.writeInt(this.crossAcctId);
+			out.writeDouble(this.currentNotionalValue);
+			out.writeObject(this.debtClass);
+			out.writeObject(this.externalTradeId);
+			out.writeDouble(this.factorFeeAdjustment);
+			out.writeObject(this.firmRiskAcctName);
+			out.writeDouble(this.initialNotional);
+			out.writeInt(this.instrumentId);
+			out.writeInt(this.interCompanyType);
+			out.writeObject(this.intercompanyRecFlag);
+			out.writeDouble(this.nativeCost);
+			out.writeObject(this.nativeCurrencyCode);
+			out.writeDouble(this.nativeMarketValue);
+			out.writeDouble(this.notionalValue);
+			out.writeObject(this.payCurrencyCode);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TlewTransactionFinder.processingDate().getInfinityDate());
+			out.writeLong(this.productGlobalClass);
+			out.writeObject(this.receiveCurrencyCode);
+			out.writeDouble(this.replacementCost);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.settleDate);
+			out.writeInt(this.settlementType);
+			out.writeDouble(this.taxWithholdingAdjustment);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.tradeDate);
+			out.writeDouble(this.tradeQty);
+			out.writeObject(this.tradeSubType);
+			out.writeObject(this.tradeType);
+			out.writeInt(this.tranId);
+			out.writeObject(this.tranRef);
+			out.writeDouble(this.usdXRate);
+			out.writeDouble(this.valuationAdjustment);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.isNullBits0);
+		}
+
+		public int getAcctId()
+		{
+			return this.acctId;
+		}
+
+		public void setAcctId(int value)
+		{
+			this.acctId = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 2);
+		}
+
+		public double getBaseXRate()
+		{
+			return this.baseXRate;
+		}
+
+		public void setBaseXRate(double value)
+		{
+			this.baseXRate = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 9);
+		}
+
+		public Timestamp getBusinessDate()
+		{
+			return this.businessDate;
+		}
+
+		public long zGetBusinessDateAsLong()
+		{
+			if (businessDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDate.getTime();
+		}
+
+		public void setBusinessDate(Timestamp value)
+		{
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+		}
+
+		public void setBusinessDateNull()
+		{
+			this.setBusinessDate(null);
+		}
+
+		public String getBuySellCode()
+		{
+			return this.buySellCode;
+		}
+
+		public int zGetBuySellCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(buySellCode);
+		}
+
+		public void setBuySellCode(String value)
+		{
+			this.buySellCode = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setBuySellCodeNull()
+		{
+			this.setBuySellCode(null);
+		}
+
+		public String getCalculatorName()
+		{
+			return this.calculatorName;
+		}
+
+		public int zGetCalculatorNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(calculatorName);
+		}
+
+		public void setCalculatorName(String value)
+		{
+			this.calculatorName = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setCalculatorNameNull()
+		{
+			this.setCalculatorName(null);
+		}
+
+		public String getCashSettleCode()
+		{
+			return this.cashSettleCode;
+		}
+
+		public int zGetCashSettleCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(cashSettleCode);
+		}
+
+		public void setCashSettleCode(String value)
+		{
+			this.cashSettleCode = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setCashSettleCodeNull()
+		{
+			this.setCashSettleCode(null);
+		}
+
+		public short getChangeCode()
+		{
+			return this.changeCode;
+		}
+
+		public void setChangeCode(short value)
+		{
+			this.changeCode = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 1);
+		}
+
+		public int getCreateCode()
+		{
+			return this.createCode;
+		}
+
+		public void setCreateCode(int value)
+		{
+			this.createCode = value;
+			isNullBits0 = isNullBits0 & ~( 1);
+		}
+
+		public int getCrossAcctId()
+		{
+			return this.crossAcctId;
+		}
+
+		public void setCrossAcctId(int value)
+		{
+			this.crossAcctId = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 3);
+		}
+
+		public double getCurrentNotionalValue()
+		{
+			return this.currentNotionalValue;
+		}
+
+		public void setCurrentNotionalValue(double value)
+		{
+			this.currentNotionalValue = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 19);
+		}
+
+		public String getDebtClass()
+		{
+			return this.debtClass;
+		}
+
+		public int zGetDebtClassAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(debtClass);
+		}
+
+		public void setDebtClass(String value)
+		{
+			this.debtClass = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setDebtClassNull()
+		{
+			this.setDebtClass(null);
+		}
+
+		public String getExternalTradeId()
+		{
+			return this.externalTradeId;
+		}
+
+		public int zGetExternalTradeIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(externalTradeId);
+		}
+
+		public void setExternalTradeId(String value)
+		{
+			this.externalTradeId = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setExternalTradeIdNull()
+		{
+			this.setExternalTradeId(null);
+		}
+
+		public double getFactorFeeAdjustment()
+		{
+			return this.factorFeeAdjustment;
+		}
+
+		public void setFactorFeeAdjustment(double value)
+		{
+			this.factorFeeAdjustment = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 16);
+		}
+
+		public String getFirmRiskAcctName()
+		{
+			return this.firmRiskAcctName;
+		}
+
+		public int zGetFirmRiskAcctNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(firmRiskAcctName);
+		}
+
+		public void setFirmRiskAcctName(String value)
+		{
+			this.firmRiskAcctName = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setFirmRiskAcctNameNull()
+		{
+			this.setFirmRiskAcctName(null);
+		}
+
+		public double getInitialNotional()
+		{
+			return this.initialNotional;
+		}
+
+		public void setInitialNotional(double value)
+		{
+			this.initialNotional = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 15);
+		}
+
+		public int getInstrumentId()
+		{
+			return this.instrumentId;
+		}
+
+		public void setInstrumentId(int value)
+		{
+			this.instrumentId = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 4);
+		}
+
+		public int getInterCompanyType()
+		{
+			return this.interCompanyType;
+		}
+
+		public void setInterCompanyType(int value)
+		{
+			this.interCompanyType = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 7);
+		}
+
+		public String getIntercompanyRecFlag()
+		{
+			return this.intercompanyRecFlag;
+		}
+
+		public int zGetIntercompanyRecFlagAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(intercompanyRecFlag);
+		}
+
+		public void setIntercompanyRecFlag(String value)
+		{
+			this.intercompanyRecFlag = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setIntercompanyRecFlagNull()
+		{
+			this.setIntercompanyRecFlag(null);
+		}
+
+		public double getNativeCost()
+		{
+			return this.nativeCost;
+		}
+
+		public void setNativeCost(double value)
+		{
+			this.nativeCost = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 11);
+		}
+
+		public String getNativeCurrencyCode()
+		{
+			return this.nativeCurrencyCode;
+		}
+
+		public int zGetNativeCurrencyCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(nativeCurrencyCode);
+		}
+
+		public void setNativeCurrencyCode(String value)
+		{
+			this.nativeCurrencyCode = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setNativeCurrencyCodeNull()
+		{
+			this.setNativeCurrencyCode(null);
+		}
+
+		public double getNativeMarketValue()
+		{
+			return this.nativeMarketValue;
+		}
+
+		public void setNativeMarketValue(double value)
+		{
+			this.nativeMarketValue = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 14);
+		}
+
+		public double getNotionalValue()
+		{
+			return this.notionalValue;
+		}
+
+		public void setNotionalValue(double value)
+		{
+			this.notionalValue = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 13);
+		}
+
+		public String getPayCurrencyCode()
+		{
+			return this.payCurrencyCode;
+		}
+
+		public int zGetPayCurrencyCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(payCurrencyCode);
+		}
+
+		public void setPayCurrencyCode(String value)
+		{
+			this.payCurrencyCode = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setPayCurrencyCodeNull()
+		{
+			this.setPayCurrencyCode(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getProductGlobalClass()
+		{
+			return this.productGlobalClass;
+		}
+
+		public void setProductGlobalClass(long value)
+		{
+			this.productGlobalClass = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 5);
+		}
+
+		public String getReceiveCurrencyCode()
+		{
+			return this.receiveCurrencyCode;
+		}
+
+		public int zGetReceiveCurrencyCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(receiveCurrencyCode);
+		}
+
+		public void setReceiveCurrencyCode(String value)
+		{
+			this.receiveCurrencyCode = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setReceiveCurrencyCodeNull()
+		{
+			this.setReceiveCurrencyCode(null);
+		}
+
+		public double getReplacementCost()
+		{
+			return this.replacementCost;
+		}
+
+		public void setReplacementCost(double value)
+		{
+			this.replacementCost = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 12);
+		}
+
+		public Timestamp getSettleDate()
+		{
+			return this.settleDate;
+		}
+
+		public long zGetSettleDateAsLong()
+		{
+			if (settleDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return settleDate.getTime();
+		}
+
+		public void setSettleDate(Timestamp value)
+		{
+			this.settleDate = TimestampPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+		}
+
+		public void setSettleDateNull()
+		{
+			this.setSettleDate(null);
+		}
+
+		public int getSettlementType()
+		{
+			return this.settlementType;
+		}
+
+		public void setSettlementType(int value)
+		{
+			this.settlementType = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 6);
+		}
+
+		public double getTaxWithholdingAdjustment()
+		{
+			return this.taxWithholdingAdjustment;
+		}
+
+		public void setTaxWithholdingAdjustment(double value)
+		{
+			this.taxWithholdingAdjustment = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 17);
+		}
+
+		public Timestamp getTradeDate()
+		{
+			return this.tradeDate;
+		}
+
+		public long zGetTradeDateAsLong()
+		{
+			if (tradeDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return tradeDate.getTime();
+		}
+
+		public void setTradeDate(Timestamp value)
+		{
+			this.tradeDate = TimestampPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+		}
+
+		public void setTradeDateNull()
+		{
+			this.setTradeDate(null);
+		}
+
+		public double getTradeQty()
+		{
+			return this.tradeQty;
+		}
+
+		public void setTradeQty(double value)
+		{
+			this.tradeQty = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 10);
+		}
+
+		public String getTradeSubType()
+		{
+			return this.tradeSubType;
+		}
+
+		public int zGetTradeSubTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(tradeSubType);
+		}
+
+		public void setTradeSubType(String value)
+		{
+			this.tradeSubType = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setTradeSubTypeNull()
+		{
+			this.setTradeSubType(null);
+		}
+
+		public String getTradeType()
+		{
+			return this.tradeType;
+		}
+
+		public int zGetTradeTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(tradeType);
+		}
+
+		public void setTradeType(String value)
+		{
+			this.tradeType = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setTradeTypeNull()
+		{
+			this.setTradeType(null);
+		}
+
+		public int getTranId()
+		{
+			return this.tranId;
+		}
+
+		public void setTranId(int value)
+		{
+			this.tranId = value;
+		}
+
+		public void setTranIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTranRef()
+		{
+			return this.tranRef;
+		}
+
+		public int zGetTranRefAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(tranRef);
+		}
+
+		public void setTranRef(String value)
+		{
+			this.tranRef = StringPool.getInstance().getOrAddToCache(value, TlewTransactionFinder.isFullCache());
+		}
+
+		public void setTranRefNull()
+		{
+			this.setTranRef(null);
+		}
+
+		public double getUsdXRate()
+		{
+			return this.usdXRate;
+		}
+
+		public void setUsdXRate(double value)
+		{
+			this.usdXRate = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 8);
+		}
+
+		public double getValuationAdjustment()
+		{
+			return this.valuationAdjustment;
+		}
+
+		public void setValuationAdjustment(double value)
+		{
+			this.valuationAdjustment = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 18);
+		}
+
+		public void setCreateCodeNull()
+		{
+			isNullBits0 = (isNullBits0 | 1);
+		}
+
+		public void setChangeCodeNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 1);
+		}
+
+		public void setAcctIdNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 2);
+		}
+
+		public void setCrossAcctIdNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 3);
+		}
+
+		public void setInstrumentIdNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 4);
+		}
+
+		public void setProductGlobalClassNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 5);
+		}
+
+		public void setSettlementTypeNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 6);
+		}
+
+		public void setInterCompanyTypeNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 7);
+		}
+
+		public void setUsdXRateNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 8);
+		}
+
+		public void setBaseXRateNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 9);
+		}
+
+		public void setTradeQtyNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 10);
+		}
+
+		public void setNativeCostNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 11);
+		}
+
+		public void setReplacementCostNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 12);
+		}
+
+		public void setNotionalValueNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 13);
+		}
+
+		public void setNativeMarketValueNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 14);
+		}
+
+		public void setInitialNotionalNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 15);
+		}
+
+		public void setFactorFeeAdjustmentNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 16);
+		}
+
+		public void setTaxWithholdingAdjustmentNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 17);
+		}
+
+		public void setValuationAdjustmentNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 18);
+		}
+
+		public void setCurrentNotionalValueNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 19);
+		}
+
+		public int zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(int newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TlewTransactionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.acctId = this.acctId;
+			copy.baseXRate = this.baseXRate;
+			copy.businessDate = this.businessDate;
+			copy.buySellCode = this.buySellCode;
+			copy.calculatorName = this.calculatorName;
+			copy.cashSettleCode = this.cashSettleCode;
+			copy.changeCode = this.changeCode;
+			copy.createCode = this.createCode;
+			copy.crossAcctId = this.crossAcctId;
+			copy.currentNotionalValue = this.currentNotionalValue;
+			copy.debtClass = this.debtClass;
+			copy.externalTradeId = this.externalTradeId;
+			copy.factorFeeAdjustment = this.factorFeeAdjustment;
+			copy.firmRiskAcctName = this.firmRiskAcctName;
+			copy.initialNotional = this.initialNotional;
+			copy.instrumentId = this.instrumentId;
+			copy.interCompanyType = this.interCompanyType;
+			copy.intercompanyRecFlag = this.intercompanyRecFlag;
+			copy.nativeCost = this.nativeCost;
+			copy.nativeCurrencyCode = this.nativeCurrencyCode;
+			copy.nativeMarketValue = this.nativeMarketValue;
+			copy.notionalValue = this.notionalValue;
+			copy.payCurrencyCode = this.payCurrencyCode;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.productGlobalClass = this.productGlobalClass;
+			copy.receiveCurrencyCode = this.receiveCurrencyCode;
+			copy.replacementCost = this.replacementCost;
+			copy.settleDate = this.settleDate;
+			copy.settlementType = this.settlementType;
+			copy.taxWithholdingAdjustment = this.taxWithholdingAdjustment;
+			copy.tradeDate = this.tradeDate;
+			copy.tradeQty = this.tradeQty;
+			copy.tradeSubType = this.tradeSubType;
+			copy.tradeType = this.tradeType;
+			copy.tranId = this.tranId;
+			copy.tranRef = this.tranRef;
+			copy.usdXRate = this.usdXRate;
+			copy.valuationAdjustment = this.valuationAdjustment;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readInt();
+			this.acctId = in.readInt();
+			this.baseXRate = in.readDouble();
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+			this.buySellCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.calculatorName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.cashSettleCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.changeCode = in.readShort();
+			this.createCode = in.readInt();
+			this.crossAcctId = in.readInt();
+			this.currentNotionalValue = in.readDouble();
+			this.debtClass = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.externalTradeId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.factorFeeAdjustment = in.readDouble();
+			this.firmRiskAcctName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.initialNotional = in.readDouble();
+			this.instrumentId = in.readInt();
+			this.interCompanyType = in.readInt();
+			this.intercompanyRecFlag = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.nativeCost = in.readDouble();
+			this.nativeCurrencyCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.nativeMarketValue = in.readDouble();
+			this.notionalValue = in.readDouble();
+			this.payCurrencyCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TlewTransactionFinder.processingDate().getInfinityDate()), TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+			this.productGlobalClass = in.readLong();
+			this.receiveCurrencyCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.replacementCost = in.readDouble();
+			this.settleDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+			this.settlementType = in.readInt();
+			this.taxWithholdingAdjustment = in.readDouble();
+			this.tradeDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+			this.tradeQty = in.readDouble();
+			this.tradeSubType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.tradeType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.tranId = in.readInt();
+			this.tranRef = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTransactionFinder.isFullCache());
+			this.usdXRate = in.readDouble();
+			this.valuationAdjustment = in.readDouble();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TlewTransactionData otherData = (TlewTransactionData) other;
+			if (getTranId() != otherData.getTranId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TlewTransactionFinder.processingDate().getInfinityDate());
+			out.writeInt(this.tranId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TlewTransactionFinder.processingDate().getInfinityDate()), TlewTransactionFinder.isFullCache(), TlewTransactionFinder.isOffHeap());
+			this.tranId = in.readInt();
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TlewTransactionDataOffHeap data = new TlewTransactionDataOffHeap();
+			data.setAcctId(this.getAcctId());
+			if (this.isAcctIdNull()) data.setAcctIdNull();
+			data.setBaseXRate(this.getBaseXRate());
+			if (this.isBaseXRateNull()) data.setBaseXRateNull();
+			data.setBusinessDate(this.getBusinessDate());
+			data.setBuySellCode(this.getBuySellCode());
+			data.setCalculatorName(this.getCalculatorName());
+			data.setCashSettleCode(this.getCashSettleCode());
+			data.setChangeCode(this.getChangeCode());
+			if (this.isChangeCodeNull()) data.setChangeCodeNull();
+			data.setCreateCode(this.getCreateCode());
+			if (this.isCreateCodeNull()) data.setCreateCodeNull();
+			data.setCrossAcctId(this.getCrossAcctId());
+			if (this.isCrossAcctIdNull()) data.setCrossAcctIdNull();
+			data.setCurrentNotionalValue(this.getCurrentNotionalValue());
+			if (this.isCurrentNotionalValueNull()) data.setCurrentNotionalValueNull();
+			data.setDebtClass(this.getDebtClass());
+			data.setExternalTradeId(this.getExternalTradeId());
+			data.setFactorFeeAdjustment(this.getFactorFeeAdjustment());
+			if (this.isFactorFeeAdjustmentNull()) data.setFactorFeeAdjustmentNull();
+			data.setFirmRiskAcctName(this.getFirmRiskAcctName());
+			data.setInitialNotional(this.getInitialNotional());
+			if (this.isInitialNotionalNull()) data.setInitialNotionalNull();
+			data.setInstrumentId(this.getInstrumentId());
+			if (this.isInstrumentIdNull()) data.setInstrumentIdNull();
+			data.setInterCompanyType(this.getInterCompanyType());
+			if (this.isInterCompanyTypeNull()) data.setInterCompanyTypeNull();
+			data.setIntercompanyRecFlag(this.getIntercompanyRecFlag());
+			data.setNativeCost(this.getNativeCost());
+			if (this.isNativeCostNull()) data.setNativeCostNull();
+			data.setNativeCurrencyCode(this.getNativeCurrencyCode());
+			data.setNativeMarketValue(this.getNativeMarketValue());
+			if (this.isNativeMarketValueNull()) data.setNativeMarketValueNull();
+			data.setNotionalValue(this.getNotionalValue());
+			if (this.isNotionalValueNull()) data.setNotionalValueNull();
+			data.setPayCurrencyCode(this.getPayCurrencyCode());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setProductGlobalClass(this.getProductGlobalClass());
+			if (this.isProductGlobalClassNull()) data.setProductGlobalClassNull();
+			data.setReceiveCurrencyCode(this.getReceiveCurrencyCode());
+			data.setReplacementCost(this.getReplacementCost());
+			if (this.isReplacementCostNull()) data.setReplacementCostNull();
+			data.setSettleDate(this.getSettleDate());
+			data.setSettlementType(this.getSettlementType());
+			if (this.isSettlementTypeNull()) data.setSettlementTypeNull();
+			data.setTaxWithholdingAdjustment(this.getTaxWithholdingAdjustment());
+			if (this.isTaxWithholdingAdjustmentNull()) data.setTaxWithholdingAdjustmentNull();
+			data.setTradeDate(this.getTradeDate());
+			data.setTradeQty(this.getTradeQty());
+			if (this.isTradeQtyNull()) data.setTradeQtyNull();
+			data.setTradeSubType(this.getTradeSubType());
+			data.setTradeType(this.getTradeType());
+			data.setTranId(this.getTranId());
+			data.setTranRef(this.getTranRef());
+			data.setUsdXRate(this.getUsdXRate());
+			if (this.isUsdXRateNull()) data.setUsdXRateNull();
+			data.setValuationAdjustment(this.getValuationAdjustment());
+			if (this.isValuationAdjustmentNull()) data.setValuationAdjustmentNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TlewTransactionData tlewTransactionData = (TlewTransactionData) newData;
+			this.setAcctId(tlewTransactionData.getAcctId());
+			if (tlewTransactionData.isAcctIdNull()) this.setAcctIdNull();
+			this.setBaseXRate(tlewTransactionData.getBaseXRate());
+			if (tlewTransactionData.isBaseXRateNull()) this.setBaseXRateNull();
+			this.setBusinessDate(tlewTransactionData.getBusinessDate());
+			this.setBuySellCode(tlewTransactionData.getBuySellCode());
+			this.setCalculatorName(tlewTransactionData.getCalculatorName());
+			this.setCashSettleCode(tlewTransactionData.getCashSettleCode());
+			this.setChangeCode(tlewTransactionData.getChangeCode());
+			if (tlewTransactionData.isChangeCodeNull()) this.setChangeCodeNull();
+			this.setCreateCode(tlewTransactionData.getCreateCode());
+			if (tlewTransactionData.isCreateCodeNull()) this.setCreateCodeNull();
+			this.setCrossAcctId(tlewTransactionData.getCrossAcctId());
+			if (tlewTransactionData.isCrossAcctIdNull()) this.setCrossAcctIdNull();
+			this.setCurrentNotionalValue(tlewTransactionData.getCurrentNotionalValue());
+			if (tlewTransactionData.isCurrentNotionalValueNull()) this.setCurrentNotionalValueNull();
+			this.setDebtClass(tlewTransactionData.getDebtClass());
+			this.setExternalTradeId(tlewTransactionData.getExternalTradeId());
+			this.setFactorFeeAdjustment(tlewTransactionData.getFactorFeeAdjustment());
+			if (tlewTransactionData.isFactorFeeAdjustmentNull()) this.setFactorFeeAdjustmentNull();
+			this.setFirmRiskAcctName(tlewTransactionData.getFirmRiskAcctName());
+			this.setInitialNotional(tlewTransactionData.getInitialNotional());
+			if (tlewTransactionData.isInitialNotionalNull()) this.setInitialNotionalNull();
+			this.setInstrumentId(tlewTransactionData.getInstrumentId());
+			if (tlewTransactionData.isInstrumentIdNull()) this.setInstrumentIdNull();
+			this.setInterCompanyType(tlewTransactionData.getInterCompanyType());
+			if (tlewTransactionData.isInterCompanyTypeNull()) this.setInterCompanyTypeNull();
+			this.setIntercompanyRecFlag(tlewTransactionData.getIntercompanyRecFlag());
+			this.setNativeCost(tlewTransactionData.getNativeCost());
+			if (tlewTransactionData.isNativeCostNull()) this.setNativeCostNull();
+			this.setNativeCurrencyCode(tlewTransactionData.getNativeCurrencyCode());
+			this.setNativeMarketValue(tlewTransactionData.getNativeMarketValue());
+			if (tlewTransactionData.isNativeMarketValueNull()) this.setNativeMarketValueNull();
+			this.setNotionalValue(tlewTransactionData.getNotionalValue());
+			if (tlewTransactionData.isNotionalValueNull()) this.setNotionalValueNull();
+			this.setPayCurrencyCode(tlewTransactionData.getPayCurrencyCode());
+			this.setProcessingDateFrom(tlewTransactionData.getProcessingDateFrom());
+			this.setProcessingDateTo(tlewTransactionData.getProcessingDateTo());
+			this.setProductGlobalClass(tlewTransactionData.getProductGlobalClass());
+			if (tlewTransactionData.isProductGlobalClassNull()) this.setProductGlobalClassNull();
+			this.setReceiveCurrencyCode(tlewTransactionData.getReceiveCurrencyCode());
+			this.setReplacementCost(tlewTransactionData.getReplacementCost());
+			if (tlewTransactionData.isReplacementCostNull()) this.setReplacementCostNull();
+			this.setSettleDate(tlewTransactionData.getSettleDate());
+			this.setSettlementType(tlewTransactionData.getSettlementType());
+			if (tlewTransactionData.isSettlementTypeNull()) this.setSettlementTypeNull();
+			this.setTaxWithholdingAdjustment(tlewTransactionData.getTaxWithholdingAdjustment());
+			if (tlewTransactionData.isTaxWithholdingAdjustmentNull()) this.setTaxWithholdingAdjustmentNull();
+			this.setTradeDate(tlewTransactionData.getTradeDate());
+			this.setTradeQty(tlewTransactionData.getTradeQty());
+			if (tlewTransactionData.isTradeQtyNull()) this.setTradeQtyNull();
+			this.setTradeSubType(tlewTransactionData.getTradeSubType());
+			this.setTradeType(tlewTransactionData.getTradeType());
+			this.setTranRef(tlewTransactionData.getTranRef());
+			this.setUsdXRate(tlewTransactionData.getUsdXRate());
+			if (tlewTransactionData.isUsdXRateNull()) this.setUsdXRateNull();
+			this.setValuationAdjustment(tlewTransactionData.getValuationAdjustment());
+			if (tlewTransactionData.isValuationAdjustmentNull()) this.setValuationAdjustmentNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TlewTransactionData other = (TlewTransactionData) newData;
+			if ( isAcctIdNull() != other.isAcctIdNull() || getAcctId() != other.getAcctId())
+			{
+				return true;
+			}
+
+			if ( isBaseXRateNull() != other.isBaseXRateNull() || Math.abs(getBaseXRate() - other.getBaseXRate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isBusinessDateNull() ? !getBusinessDate().equals(other.getBusinessDate()) : !other.isBusinessDateNull())
+			{
+				return true;
+			}
+
+			if (!isBuySellCodeNull() ? !getBuySellCode().equals(other.getBuySellCode()) : !other.isBuySellCodeNull())
+			{
+				return true;
+			}
+
+			if (!isCalculatorNameNull() ? !getCalculatorName().equals(other.getCalculatorName()) : !other.isCalculatorNameNull())
+			{
+				return true;
+			}
+
+			if (!isCashSettleCodeNull() ? !getCashSettleCode().equals(other.getCashSettleCode()) : !other.isCashSettleCodeNull())
+			{
+				return true;
+			}
+
+			if ( isChangeCodeNull() != other.isChangeCodeNull() || getChangeCode() != other.getChangeCode())
+			{
+				return true;
+			}
+
+			if ( isCreateCodeNull() != other.isCreateCodeNull() || getCreateCode() != other.getCreateCode())
+			{
+				return true;
+			}
+
+			if ( isCrossAcctIdNull() != other.isCrossAcctIdNull() || getCrossAcctId() != other.getCrossAcctId())
+			{
+				return true;
+			}
+
+			if ( isCurrentNotionalValueNull() != other.isCurrentNotionalValueNull() || Math.abs(getCurrentNotionalValue() - other.getCurrentNotionalValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isDebtClassNull() ? !getDebtClass().equals(other.getDebtClass()) : !other.isDebtClassNull())
+			{
+				return true;
+			}
+
+			if (!isExternalTradeIdNull() ? !getExternalTradeId().equals(other.getExternalTradeId()) : !other.isExternalTradeIdNull())
+			{
+				return true;
+			}
+
+			if ( isFactorFeeAdjustmentNull() != other.isFactorFeeAdjustmentNull() || Math.abs(getFactorFeeAdjustment() - other.getFactorFeeAdjustment()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isFirmRiskAcctNameNull() ? !getFirmRiskAcctName().equals(other.getFirmRiskAcctName()) : !other.isFirmRiskAcctNameNull())
+			{
+				return true;
+			}
+
+			if ( isInitialNotionalNull() != other.isInitialNotionalNull() || Math.abs(getInitialNotional() - other.getInitialNotional()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isInstrumentIdNull() != other.isInstrumentIdNull() || getInstrumentId() != other.getInstrumentId())
+			{
+				return true;
+			}
+
+			if ( isInterCompanyTypeNull() != other.isInterCompanyTypeNull() || getInterCompanyType() != other.getInterCompanyType())
+			{
+				return true;
+			}
+
+			if (!isIntercompanyRecFlagNull() ? !getIntercompanyRecFlag().equals(other.getIntercompanyRecFlag()) : !other.isIntercompanyRecFlagNull())
+			{
+				return true;
+			}
+
+			if ( isNativeCostNull() != other.isNativeCostNull() || Math.abs(getNativeCost() - other.getNativeCost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isNativeCurrencyCodeNull() ? !getNativeCurrencyCode().equals(other.getNativeCurrencyCode()) : !other.isNativeCurrencyCodeNull())
+			{
+				return true;
+			}
+
+			if ( isNativeMarketValueNull() != other.isNativeMarketValueNull() || Math.abs(getNativeMarketValue() - other.getNativeMarketValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isNotionalValueNull() != other.isNotionalValueNull() || Math.abs(getNotionalValue() - other.getNotionalValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isPayCurrencyCodeNull() ? !getPayCurrencyCode().equals(other.getPayCurrencyCode()) : !other.isPayCurrencyCodeNull())
+			{
+				return true;
+			}
+
+			if ( isProductGlobalClassNull() != other.isProductGlobalClassNull() || getProductGlobalClass() != other.getProductGlobalClass())
+			{
+				return true;
+			}
+
+			if (!isReceiveCurrencyCodeNull() ? !getReceiveCurrencyCode().equals(other.getReceiveCurrencyCode()) : !other.isReceiveCurrencyCodeNull())
+			{
+				return true;
+			}
+
+			if ( isReplacementCostNull() != other.isReplacementCostNull() || Math.abs(getReplacementCost() - other.getReplacementCost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isSettleDateNull() ? !getSettleDate().equals(other.getSettleDate()) : !other.isSettleDateNull())
+			{
+				return true;
+			}
+
+			if ( isSettlementTypeNull() != other.isSettlementTypeNull() || getSettlementType() != other.getSettlementType())
+			{
+				return true;
+			}
+
+			if ( isTaxWithholdingAdjustmentNull() != other.isTaxWithholdingAdjustmentNull() || Math.abs(getTaxWithholdingAdjustment() - other.getTaxWithholdingAdjustment()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isTradeDateNull() ? !getTradeDate().equals(other.getTradeDate()) : !other.isTradeDateNull())
+			{
+				return true;
+			}
+
+			if ( isTradeQtyNull() != other.isTradeQtyNull() || Math.abs(getTradeQty() - other.getTradeQty()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isTradeSubTypeNull() ? !getTradeSubType().equals(other.getTradeSubType()) : !other.isTradeSubTypeNull())
+			{
+				return true;
+			}
+
+			if (!isTradeTypeNull() ? !getTradeType().equals(other.getTradeType()) : !other.isTradeTypeNull())
+			{
+				return true;
+			}
+
+			if (!isTranRefNull() ? !getTranRef().equals(other.getTranRef()) : !other.isTranRefNull())
+			{
+				return true;
+			}
+
+			if ( isUsdXRateNull() != other.isUsdXRateNull() || Math.abs(getUsdXRate() - other.getUsdXRate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isValuationAdjustmentNull() != other.isValuationAdjustmentNull() || Math.abs(getValuationAdjustment() - other.getValuationAdjustment()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TlewTransactionDataOnHeap copy = new TlewTransactionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TlewTransactionDataOnHeap copy = new TlewTransactionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "tranId: "+(""+getTranId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TlewTransactionData otherData = (TlewTransactionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TlewTransactionData otherData = (TlewTransactionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TlewTransactionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TlewTransactionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TlewTransactionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TlewTransactionData";
+		}
+	}
+
+	public class TlewTransactionDataOffHeap extends MithraOffHeapDataObject implements TlewTransactionData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TlewTransactionDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 134);
+			this.zSetTimestamp(_storage, value, 142);
+			this.zSetTimestamp(_storage, value, 170);
+			this.zSetTimestamp(_storage, value, 190);
+		}
+
+		public TlewTransactionDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAcctIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isBaseXRateNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isBusinessDateNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isBuySellCodeNull()
+		{
+			return zIsStringNull(_storage, 32);
+		}
+
+		public boolean isCalculatorNameNull()
+		{
+			return zIsStringNull(_storage, 36);
+		}
+
+		public boolean isCashSettleCodeNull()
+		{
+			return zIsStringNull(_storage, 40);
+		}
+
+		public boolean isChangeCodeNull()
+		{
+			return zIsNull(_storage, 4, 2);
+		}
+
+		public boolean isCreateCodeNull()
+		{
+			return zIsNull(_storage, 4, 3);
+		}
+
+		public boolean isCrossAcctIdNull()
+		{
+			return zIsNull(_storage, 4, 4);
+		}
+
+		public boolean isCurrentNotionalValueNull()
+		{
+			return zIsNull(_storage, 4, 5);
+		}
+
+		public boolean isDebtClassNull()
+		{
+			return zIsStringNull(_storage, 62);
+		}
+
+		public boolean isExternalTradeIdNull()
+		{
+			return zIsStringNull(_storage, 66);
+		}
+
+		public boolean isFactorFeeAdjustmentNull()
+		{
+			return zIsNull(_storage, 4, 6);
+		}
+
+		public boolean isFirmRiskAcctNameNull()
+		{
+			return zIsStringNull(_storage, 78);
+		}
+
+		public boolean isInitialNotionalNull()
+		{
+			return zIsNull(_storage, 4, 7);
+		}
+
+		public boolean isInstrumentIdNull()
+		{
+			return zIsNull(_storage, 4, 8);
+		}
+
+		public boolean isInterCompanyTypeNull()
+		{
+			return zIsNull(_storage, 4, 9);
+		}
+
+		public boolean isIntercompanyRecFlagNull()
+		{
+			return zIsStringNull(_storage, 98);
+		}
+
+		public boolean isNativeCostNull()
+		{
+			return zIsNull(_storage, 4, 10);
+		}
+
+		public boolean isNativeCurrencyCodeNull()
+		{
+			return zIsStringNull(_storage, 110);
+		}
+
+		public boolean isNativeMarketValueNull()
+		{
+			return zIsNull(_storage, 4, 11);
+		}
+
+		public boolean isNotionalValueNull()
+		{
+			return zIsNull(_storage, 4, 12);
+		}
+
+		public boolean isPayCurrencyCodeNull()
+		{
+			return zIsStringNull(_storage, 130);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 134);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 142);
+		}
+
+		public boolean isProductGlobalClassNull()
+		{
+			return zIsNull(_storage, 4, 13);
+		}
+
+		public boolean isReceiveCurrencyCodeNull()
+		{
+			return zIsStringNull(_storage, 158);
+		}
+
+		public boolean isReplacementCostNull()
+		{
+			return zIsNull(_storage, 4, 14);
+		}
+
+		public boolean isSettleDateNull()
+		{
+			return zIsTimestampNull(_storage, 170);
+		}
+
+		public boolean isSettlementTypeNull()
+		{
+			return zIsNull(_storage, 4, 15);
+		}
+
+		public boolean isTaxWithholdingAdjustmentNull()
+		{
+			return zIsNull(_storage, 4, 16);
+		}
+
+		public boolean isTradeDateNull()
+		{
+			return zIsTimestampNull(_storage, 190);
+		}
+
+		public boolean isTradeQtyNull()
+		{
+			return zIsNull(_storage, 4, 17);
+		}
+
+		public boolean isTradeSubTypeNull()
+		{
+			return zIsStringNull(_storage, 206);
+		}
+
+		public boolean isTradeTypeNull()
+		{
+			return zIsStringNull(_storage, 210);
+		}
+
+		public boolean isTranIdNull()
+		{
+			return false;
+		}
+
+		public boolean isTranRefNull()
+		{
+			return zIsStringNull(_storage, 214);
+		}
+
+		public boolean isUsdXRateNull()
+		{
+			return zIsNull(_storage, 4, 18);
+		}
+
+		public boolean isValuationAdjustmentNull()
+		{
+			return zIsNull(_storage, 4, 19);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getAcctId());
+			out.writeDouble(this.getBaseXRate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateAsLong());
+			out.writeObject(this.getBuySellCode());
+			out.writeObject(this.getCalculatorName());
+			out.writeObject(this.getCashSettleCode());
+			out.writeShort(this.getChangeCode());
+			out.writeInt(this.getCreateCode());
+			out.writeInt(this.getCrossAcctId());
+			out.writeDouble(this.getCurrentNotionalValue());
+			out.writeObject(this.getDebtClass());
+			out.writeObject(this.getExternalTradeId());
+			out.writeDouble(this.getFactorFeeAdjustment());
+			out.writeObject(this.getFirmRiskAcctName());
+			out.writeDouble(this.getInitialNotional());
+			out.writeInt(this.getInstrumentId());
+			out.writeInt(this.getInterCompanyType());
+			out.writeObject(this.getIntercompanyRecFlag());
+			out.writeDouble(this.getNativeCost());
+			out.writeObject(this.getNativeCurrencyCode());
+			out.writeDouble(this.getNativeMarketValue());
+			out.writeDouble(this.getNotionalValue());
+			out.writeObject(this.getPayCurrencyCode());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TlewTransactionFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getProductGlobalClass());
+			out.writeObject(this.getReceiveCurrencyCode());
+			out.writeDouble(this.getReplacementCost());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetSettleDateAsLong());
+			out.writeInt(this.getSettlementType());
+			out.writeDouble(this.getTaxWithholdingAdjustment());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetTradeDateAsLong());
+			out.writeDouble(this.getTradeQty());
+			out.writeObject(this.getTradeSubType());
+			out.writeObject(this.getTradeType());
+			out.writeInt(this.getTranId());
+			out.writeObject(this.getTranRef());
+			out.writeDouble(this.getUsdXRate());
+			out.writeDouble(this.getValuationAdjustment());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			int isNullBits0 = 0;
+			if (isCreateCodeNull())
+			{
+				isNullBits0 = (isNullBits0 | 1);
+			}
+
+			if (isChangeCodeNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 1);
+			}
+
+			if (isAcctIdNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 2);
+			}
+
+			if (isCrossAcctIdNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 3);
+			}
+
+			if (isInstrumentIdNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 4);
+			}
+
+			if (isProductGlobalClassNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 5);
+			}
+
+			if (isSettlementTypeNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 6);
+			}
+
+			if (isInterCompanyTypeNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 7);
+			}
+
+			if (isUsdXRateNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 8);
+			}
+
+			if (isBaseXRateNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 9);
+			}
+
+			if (isTradeQtyNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 10);
+			}
+
+			if (isNativeCostNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 11);
+			}
+
+			if (isReplacementCostNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 12);
+			}
+
+			if (isNotionalValueNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 13);
+			}
+
+			if (isNativeMarketValueNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 14);
+			}
+
+			if (isInitialNotionalNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 15);
+			}
+
+			if (isFactorFeeAdjustmentNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 16);
+			}
+
+			if (isTaxWithholdingAdjustmentNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 17);
+			}
+
+			if (isValuationAdjustmentNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 18);
+			}
+
+			if (isCurrentNotionalValueNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 19);
+			}
+
+			out.writeInt(isNullBits0);
+		}
+
+		public int getAcctId()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setAcctId(int value)
+		{
+			zSetInteger(_storage, value, 12, 4, 0);
+		}
+
+		public double getBaseXRate()
+		{
+			return zGetDouble(_storage, 16);
+		}
+
+		public void setBaseXRate(double value)
+		{
+			zSetDouble(_storage, value, 16, 4, 1);
+		}
+
+		public Timestamp getBusinessDate()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetBusinessDateAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setBusinessDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setBusinessDateNull()
+		{
+			this.setBusinessDate(null);
+		}
+
+		public String getBuySellCode()
+		{
+			return zGetString(_storage, 32);
+		}
+
+		public int zGetBuySellCodeAsInt()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setBuySellCode(String value)
+		{
+			zSetString(_storage, value, 32);
+		}
+
+		public void setBuySellCodeNull()
+		{
+			this.setBuySellCode(null);
+		}
+
+		public String getCalculatorName()
+		{
+			return zGetString(_storage, 36);
+		}
+
+		public int zGetCalculatorNameAsInt()
+		{
+			return zGetInteger(_storage, 36);
+		}
+
+		public void setCalculatorName(String value)
+		{
+			zSetString(_storage, value, 36);
+		}
+
+		public void setCalculatorNameNull()
+		{
+			this.setCalculatorName(null);
+		}
+
+		public String getCashSettleCode()
+		{
+			return zGetString(_storage, 40);
+		}
+
+		public int zGetCashSettleCodeAsInt()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setCashSettleCode(String value)
+		{
+			zSetString(_storage, value, 40);
+		}
+
+		public void setCashSettleCodeNull()
+		{
+			this.setCashSettleCode(null);
+		}
+
+		public short getChangeCode()
+		{
+			return zGetShort(_storage, 44);
+		}
+
+		public void setChangeCode(short value)
+		{
+			zSetShort(_storage, value, 44, 4, 2);
+		}
+
+		public int getCreateCode()
+		{
+			return zGetInteger(_storage, 46);
+		}
+
+		public void setCreateCode(int value)
+		{
+			zSetInteger(_storage, value, 46, 4, 3);
+		}
+
+		public int getCrossAcctId()
+		{
+			return zGetInteger(_storage, 50);
+		}
+
+		public void setCrossAcctId(int value)
+		{
+			zSetInteger(_storage, value, 50, 4, 4);
+		}
+
+		public double getCurrentNotionalValue()
+		{
+			return zGetDouble(_storage, 54);
+		}
+
+		public void setCurrentNotionalValue(double value)
+		{
+			zSetDouble(_storage, value, 54, 4, 5);
+		}
+
+		public String getDebtClass()
+		{
+			return zGetString(_storage, 62);
+		}
+
+		public int zGetDebtClassAsInt()
+		{
+			return zGetInteger(_storage, 62);
+		}
+
+		public void setDebtClass(String value)
+		{
+			zSetString(_storage, value, 62);
+		}
+
+		public void setDebtClassNull()
+		{
+			this.setDebtClass(null);
+		}
+
+		public String getExternalTradeId()
+		{
+			return zGetString(_storage, 66);
+		}
+
+		public int zGetExternalTradeIdAsInt()
+		{
+			return zGetInteger(_storage, 66);
+		}
+
+		public void setExternalTradeId(String value)
+		{
+			zSetString(_storage, value, 66);
+		}
+
+		public void setExternalTradeIdNull()
+		{
+			this.setExternalTradeId(null);
+		}
+
+		public double getFactorFeeAdjustment()
+		{
+			return zGetDouble(_storage, 70);
+		}
+
+		public void setFactorFeeAdjustment(double value)
+		{
+			zSetDouble(_storage, value, 70, 4, 6);
+		}
+
+		public String getFirmRiskAcctName()
+		{
+			return zGetString(_storage, 78);
+		}
+
+		public int zGetFirmRiskAcctNameAsInt()
+		{
+			return zGetInteger(_storage, 78);
+		}
+
+		public void setFirmRiskAcctName(String value)
+		{
+			zSetString(_storage, value, 78);
+		}
+
+		public void setFirmRiskAcctNameNull()
+		{
+			this.setFirmRiskAcctName(null);
+		}
+
+		public double getInitialNotional()
+		{
+			return zGetDouble(_storage, 82);
+		}
+
+		public void setInitialNotional(double value)
+		{
+			zSetDouble(_storage, value, 82, 4, 7);
+		}
+
+		public int getInstrumentId()
+		{
+			return zGetInteger(_storage, 90);
+		}
+
+		public void setInstrumentId(int value)
+		{
+			zSetInteger(_storage, value, 90, 4, 8);
+		}
+
+		public int getInterCompanyType()
+		{
+			return zGetInteger(_storage, 94);
+		}
+
+		public void setInterCompanyType(int value)
+		{
+			zSetInteger(_storage, value, 94, 4, 9);
+		}
+
+		public String getIntercompanyRecFlag()
+		{
+			return zGetString(_storage, 98);
+		}
+
+		public int zGetIntercompanyRecFlagAsInt()
+		{
+			return zGetInteger(_storage, 98);
+		}
+
+		public void setIntercompanyRecFlag(String value)
+		{
+			zSetString(_storage, value, 98);
+		}
+
+		public void setIntercompanyRecFlagNull()
+		{
+			this.setIntercompanyRecFlag(null);
+		}
+
+		public double getNativeCost()
+		{
+			return zGetDouble(_storage, 102);
+		}
+
+		public void setNativeCost(double value)
+		{
+			zSetDouble(_storage, value, 102, 4, 10);
+		}
+
+		public String getNativeCurrencyCode()
+		{
+			return zGetString(_storage, 110);
+		}
+
+		public int zGetNativeCurrencyCodeAsInt()
+		{
+			return zGetInteger(_storage, 110);
+		}
+
+		public void setNativeCurrencyCode(String value)
+		{
+			zSetString(_storage, value, 110);
+		}
+
+		public void setNativeCurrencyCodeNull()
+		{
+			this.setNativeCurrencyCode(null);
+		}
+
+		public double getNativeMarketValue()
+		{
+			return zGetDouble(_storage, 114);
+		}
+
+		public void setNativeMarketValue(double value)
+		{
+			zSetDouble(_storage, value, 114, 4, 11);
+		}
+
+		public double getNotionalValue()
+		{
+			return zGetDouble(_storage, 122);
+		}
+
+		public void setNotionalValue(double value)
+		{
+			zSetDouble(_storage, value, 122, 4, 12);
+		}
+
+		public String getPayCurrencyCode()
+		{
+			return zGetString(_storage, 130);
+		}
+
+		public int zGetPayCurrencyCodeAsInt()
+		{
+			return zGetInteger(_storage, 130);
+		}
+
+		public void setPayCurrencyCode(String value)
+		{
+			zSetString(_storage, value, 130);
+		}
+
+		public void setPayCurrencyCodeNull()
+		{
+			this.setPayCurrencyCode(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 134);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 134);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 134);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 142);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 142);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 142);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getProductGlobalClass()
+		{
+			return zGetLong(_storage, 150);
+		}
+
+		public void setProductGlobalClass(long value)
+		{
+			zSetLong(_storage, value, 150, 4, 13);
+		}
+
+		public String getReceiveCurrencyCode()
+		{
+			return zGetString(_storage, 158);
+		}
+
+		public int zGetReceiveCurrencyCodeAsInt()
+		{
+			return zGetInteger(_storage, 158);
+		}
+
+		public void setReceiveCurrencyCode(String value)
+		{
+			zSetString(_storage, value, 158);
+		}
+
+		public void setReceiveCurrencyCodeNull()
+		{
+			this.setReceiveCurrencyCode(null);
+		}
+
+		public double getReplacementCost()
+		{
+			return zGetDouble(_storage, 162);
+		}
+
+		public void setReplacementCost(double value)
+		{
+			zSetDouble(_storage, value, 162, 4, 14);
+		}
+
+		public Timestamp getSettleDate()
+		{
+			return zGetTimestamp(_storage, 170);
+		}
+
+		public long zGetSettleDateAsLong()
+		{
+			return zGetLong(_storage, 170);
+		}
+
+		public void setSettleDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 170);
+		}
+
+		public void setSettleDateNull()
+		{
+			this.setSettleDate(null);
+		}
+
+		public int getSettlementType()
+		{
+			return zGetInteger(_storage, 178);
+		}
+
+		public void setSettlementType(int value)
+		{
+			zSetInteger(_storage, value, 178, 4, 15);
+		}
+
+		public double getTaxWithholdingAdjustment()
+		{
+			return zGetDouble(_storage, 182);
+		}
+
+		public void setTaxWithholdingAdjustment(double value)
+		{
+			zSetDouble(_storage, value, 182, 4, 16);
+		}
+
+		public Timestamp getTradeDate()
+		{
+			return zGetTimestamp(_storage, 190);
+		}
+
+		public long zGetTradeDateAsLong()
+		{
+			return zGetLong(_storage, 190);
+		}
+
+		public void setTradeDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 190);
+		}
+
+		public void setTradeDateNull()
+		{
+			this.setTradeDate(null);
+		}
+
+		public double getTradeQty()
+		{
+			return zGetDouble(_storage, 198);
+		}
+
+		public void setTradeQty(double value)
+		{
+			zSetDouble(_storage, value, 198, 4, 17);
+		}
+
+		public String getTradeSubType()
+		{
+			return zGetString(_storage, 206);
+		}
+
+		public int zGetTradeSubTypeAsInt()
+		{
+			return zGetInteger(_storage, 206);
+		}
+
+		public void setTradeSubType(String value)
+		{
+			zSetString(_storage, value, 206);
+		}
+
+		public void setTradeSubTypeNull()
+		{
+			this.setTradeSubType(null);
+		}
+
+		public String getTradeType()
+		{
+			return zGetString(_storage, 210);
+		}
+
+		public int zGetTradeTypeAsInt()
+		{
+			return zGetInteger(_storage, 210);
+		}
+
+		public void setTradeType(String value)
+		{
+			zSetString(_storage, value, 210);
+		}
+
+		public void setTradeTypeNull()
+		{
+			this.setTradeType(null);
+		}
+
+		public int getTranId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setTranId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setTranIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getTranRef()
+		{
+			return zGetString(_storage, 214);
+		}
+
+		public int zGetTranRefAsInt()
+		{
+			return zGetInteger(_storage, 214);
+		}
+
+		public void setTranRef(String value)
+		{
+			zSetString(_storage, value, 214);
+		}
+
+		public void setTranRefNull()
+		{
+			this.setTranRef(null);
+		}
+
+		public double getUsdXRate()
+		{
+			return zGetDouble(_storage, 218);
+		}
+
+		public void setUsdXRate(double value)
+		{
+			zSetDouble(_storage, value, 218, 4, 18);
+		}
+
+		public double getValuationAdjustment()
+		{
+			return zGetDouble(_storage, 226);
+		}
+
+		public void setValuationAdjustment(double value)
+		{
+			zSetDouble(_storage, value, 226, 4, 19);
+		}
+
+		public void setCreateCodeNull()
+		{
+			zSetNull(_storage, 4, 3);
+		}
+
+		public void setChangeCodeNull()
+		{
+			zSetNull(_storage, 4, 2);
+		}
+
+		public void setAcctIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public void setCrossAcctIdNull()
+		{
+			zSetNull(_storage, 4, 4);
+		}
+
+		public void setInstrumentIdNull()
+		{
+			zSetNull(_storage, 4, 8);
+		}
+
+		public void setProductGlobalClassNull()
+		{
+			zSetNull(_storage, 4, 13);
+		}
+
+		public void setSettlementTypeNull()
+		{
+			zSetNull(_storage, 4, 15);
+		}
+
+		public void setInterCompanyTypeNull()
+		{
+			zSetNull(_storage, 4, 9);
+		}
+
+		public void setUsdXRateNull()
+		{
+			zSetNull(_storage, 4, 18);
+		}
+
+		public void setBaseXRateNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public void setTradeQtyNull()
+		{
+			zSetNull(_storage, 4, 17);
+		}
+
+		public void setNativeCostNull()
+		{
+			zSetNull(_storage, 4, 10);
+		}
+
+		public void setReplacementCostNull()
+		{
+			zSetNull(_storage, 4, 14);
+		}
+
+		public void setNotionalValueNull()
+		{
+			zSetNull(_storage, 4, 12);
+		}
+
+		public void setNativeMarketValueNull()
+		{
+			zSetNull(_storage, 4, 11);
+		}
+
+		public void setInitialNotionalNull()
+		{
+			zSetNull(_storage, 4, 7);
+		}
+
+		public void setFactorFeeAdjustmentNull()
+		{
+			zSetNull(_storage, 4, 6);
+		}
+
+		public void setTaxWithholdingAdjustmentNull()
+		{
+			zSetNull(_storage, 4, 16);
+		}
+
+		public void setValuationAdjustmentNull()
+		{
+			zSetNull(_storage, 4, 19);
+		}
+
+		public void setCurrentNotionalValueNull()
+		{
+			zSetNull(_storage, 4, 5);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TlewTransactionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.acctId = this.getAcctId();
+			copy.baseXRate = this.getBaseXRate();
+			copy.businessDate = this.getBusinessDate();
+			copy.buySellCode = this.getBuySellCode();
+			copy.calculatorName = this.getCalculatorName();
+			copy.cashSettleCode = this.getCashSettleCode();
+			copy.changeCode = this.getChangeCode();
+			copy.createCode = this.getCreateCode();
+			copy.crossAcctId = this.getCrossAcctId();
+			copy.currentNotionalValue = this.getCurrentNotionalValue();
+			copy.debtClass = this.getDebtClass();
+			copy.externalTradeId = this.getExternalTradeId();
+			copy.factorFeeAdjustment = this.getFactorFeeAdjustment();
+			copy.firmRiskAcctName = this.getFirmRiskAcctName();
+			copy.initialNotional = this.getInitialNotional();
+			copy.instrumentId = this.getInstrumentId();
+			copy.interCompanyType = this.getInterCompanyType();
+			copy.intercompanyRecFlag = this.getIntercompanyRecFlag();
+			copy.nativeCost = this.getNativeCost();
+			copy.nativeCurrencyCode = this.getNativeCurrencyCode();
+			copy.nativeMarketValue = this.getNativeMarketValue();
+			copy.notionalValue = this.getNotionalValue();
+			copy.payCurrencyCode = this.getPayCurrencyCode();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.productGlobalClass = this.getProductGlobalClass();
+			copy.receiveCurrencyCode = this.getReceiveCurrencyCode();
+			copy.replacementCost = this.getReplacementCost();
+			copy.settleDate = this.getSettleDate();
+			copy.settlementType = this.getSettlementType();
+			copy.taxWithholdingAdjustment = this.getTaxWithholdingAdjustment();
+			copy.tradeDate = this.getTradeDate();
+			copy.tradeQty = this.getTradeQty();
+			copy.tradeSubType = this.getTradeSubType();
+			copy.tradeType = this.getTradeType();
+			copy.tranId = this.getTranId();
+			copy.tranRef = this.getTranRef();
+			copy.usdXRate = this.getUsdXRate();
+			copy.valuationAdjustment = this.getValuationAdjustment();
+			if (isCreateCodeNull())
+			{
+				copy.setCreateCodeNull();
+			}
+
+			if (isChangeCodeNull())
+			{
+				copy.setChangeCodeNull();
+			}
+
+			if (isAcctIdNull())
+			{
+				copy.setAcctIdNull();
+			}
+
+			if (isCrossAcctIdNull())
+			{
+				copy.setCrossAcctIdNull();
+			}
+
+			if (isInstrumentIdNull())
+			{
+				copy.setInstrumentIdNull();
+			}
+
+			if (isProductGlobalClassNull())
+			{
+				copy.setProductGlobalClassNull();
+			}
+
+			if (isSettlementTypeNull())
+			{
+				copy.setSettlementTypeNull();
+			}
+
+			if (isInterCompanyTypeNull())
+			{
+				copy.setInterCompanyTypeNull();
+			}
+
+			if (isUsdXRateNull())
+			{
+				copy.setUsdXRateNull();
+			}
+
+			if (isBaseXRateNull())
+			{
+				copy.setBaseXRateNull();
+			}
+
+			if (isTradeQtyNull())
+			{
+				copy.setTradeQtyNull();
+			}
+
+			if (isNativeCostNull())
+			{
+				copy.setNativeCostNull();
+			}
+
+			if (isReplacementCostNull())
+			{
+				copy.setReplacementCostNull();
+			}
+
+			if (isNotionalValueNull())
+			{
+				copy.setNotionalValueNull();
+			}
+
+			if (isNativeMarketValueNull())
+			{
+				copy.setNativeMarketValueNull();
+			}
+
+			if (isInitialNotionalNull())
+			{
+				copy.setInitialNotionalNull();
+			}
+
+			if (isFactorFeeAdjustmentNull())
+			{
+				copy.setFactorFeeAdjustmentNull();
+			}
+
+			if (isTaxWithholdingAdjustmentNull())
+			{
+				copy.setTaxWithholdingAdjustmentNull();
+			}
+
+			if (isValuationAdjustmentNull())
+			{
+				copy.setValuationAdjustmentNull();
+			}
+
+			if (isCurrentNotionalValueNull())
+			{
+				copy.setCurrentNotionalValueNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			int isNullBits0 = in.readInt();
+			zSetInteger(_storage, in.readInt(), 12, 4, 0, (isNullBits0 & 1 << 2) != 0 );
+			zSetDouble(_storage, in.readDouble(), 16, 4, 1, (isNullBits0 & 1 << 9) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetString(_storage, (String)in.readObject(), 32);
+			zSetString(_storage, (String)in.readObject(), 36);
+			zSetString(_storage, (String)in.readObject(), 40);
+			zSetShort(_storage, in.readShort(), 44, 4, 2, (isNullBits0 & 1 << 1) != 0 );
+			zSetInteger(_storage, in.readInt(), 46, 4, 3, (isNullBits0 & 1) != 0 );
+			zSetInteger(_storage, in.readInt(), 50, 4, 4, (isNullBits0 & 1 << 3) != 0 );
+			zSetDouble(_storage, in.readDouble(), 54, 4, 5, (isNullBits0 & 1 << 19) != 0 );
+			zSetString(_storage, (String)in.readObject(), 62);
+			zSetString(_storage, (String)in.readObject(), 66);
+			zSetDouble(_storage, in.readDouble(), 70, 4, 6, (isNullBits0 & 1 << 16) != 0 );
+			zSetString(_storage, (String)in.readObject(), 78);
+			zSetDouble(_storage, in.readDouble(), 82, 4, 7, (isNullBits0 & 1 << 15) != 0 );
+			zSetInteger(_storage, in.readInt(), 90, 4, 8, (isNullBits0 & 1 << 4) != 0 );
+			zSetInteger(_storage, in.readInt(), 94, 4, 9, (isNullBits0 & 1 << 7) != 0 );
+			zSetString(_storage, (String)in.readObject(), 98);
+			zSetDouble(_storage, in.readDouble(), 102, 4, 10, (isNullBits0 & 1 << 11) != 0 );
+			zSetString(_storage, (String)in.readObject(), 110);
+			zSetDouble(_storage, in.readDouble(), 114, 4, 11, (isNullBits0 & 1 << 14) != 0 );
+			zSetDouble(_storage, in.readDouble(), 122, 4, 12, (isNullBits0 & 1 << 13) != 0 );
+			zSetString(_storage, (String)in.readObject(), 130);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 134);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 142);
+			zSetLong(_storage, in.readLong(), 150, 4, 13, (isNullBits0 & 1 << 5) != 0 );
+			zSetString(_storage, (String)in.readObject(), 158);
+			zSetDouble(_storage, in.readDouble(), 162, 4, 14, (isNullBits0 & 1 << 12) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 170);
+			zSetInteger(_storage, in.readInt(), 178, 4, 15, (isNullBits0 & 1 << 6) != 0 );
+			zSetDouble(_storage, in.readDouble(), 182, 4, 16, (isNullBits0 & 1 << 17) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 190);
+			zSetDouble(_storage, in.readDouble(), 198, 4, 17, (isNullBits0 & 1 << 10) != 0 );
+			zSetString(_storage, (String)in.readObject(), 206);
+			zSetString(_storage, (String)in.readObject(), 210);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 214);
+			zSetDouble(_storage, in.readDouble(), 218, 4, 18, (isNullBits0 & 1 << 8) != 0 );
+			zSetDouble(_storage, in.readDouble(), 226, 4, 19, (isNullBits0 & 1 << 18) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TlewTransactionDataOffHeap)
+			{
+				final TlewTransactionDataOffHeap otherData = (TlewTransactionDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TlewTransactionData otherData = (TlewTransactionData) other;
+			if (getTranId() != otherData.getTranId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TlewTransactionFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getTranId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 134);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 142);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TlewTransactionData tlewTransactionData = (TlewTransactionData) newData;
+			this.setAcctId(tlewTransactionData.getAcctId());
+			if (tlewTransactionData.isAcctIdNull()) this.setAcctIdNull();
+			this.setBaseXRate(tlewTransactionData.getBaseXRate());
+			if (tlewTransactionData.isBaseXRateNull()) this.setBaseXRateNull();
+			this.setBusinessDate(tlewTransactionData.getBusinessDate());
+			this.setBuySellCode(tlewTransactionData.getBuySellCode());
+			this.setCalculatorName(tlewTransactionData.getCalculatorName());
+			this.setCashSettleCode(tlewTransactionData.getCashSettleCode());
+			this.setChangeCode(tlewTransactionData.getChangeCode());
+			if (tlewTransactionData.isChangeCodeNull()) this.setChangeCodeNull();
+			this.setCreateCode(tlewTransactionData.getCreateCode());
+			if (tlewTransactionData.isCreateCodeNull()) this.setCreateCodeNull();
+			this.setCrossAcctId(tlewTransactionData.getCrossAcctId());
+			if (tlewTransactionData.isCrossAcctIdNull()) this.setCrossAcctIdNull();
+			this.setCurrentNotionalValue(tlewTransactionData.getCurrentNotionalValue());
+			if (tlewTransactionData.isCurrentNotionalValueNull()) this.setCurrentNotionalValueNull();
+			this.setDebtClass(tlewTransactionData.getDebtClass());
+			this.setExternalTradeId(tlewTransactionData.getExternalTradeId());
+			this.setFactorFeeAdjustment(tlewTransactionData.getFactorFeeAdjustment());
+			if (tlewTransactionData.isFactorFeeAdjustmentNull()) this.setFactorFeeAdjustmentNull();
+			this.setFirmRiskAcctName(tlewTransactionData.getFirmRiskAcctName());
+			this.setInitialNotional(tlewTransactionData.getInitialNotional());
+			if (tlewTransactionData.isInitialNotionalNull()) this.setInitialNotionalNull();
+			this.setInstrumentId(tlewTransactionData.getInstrumentId());
+			if (tlewTransactionData.isInstrumentIdNull()) this.setInstrumentIdNull();
+			this.setInterCompanyType(tlewTransactionData.getInterCompanyType());
+			if (tlewTransactionData.isInterCompanyTypeNull()) this.setInterCompanyTypeNull();
+			this.setIntercompanyRecFlag(tlewTransactionData.getIntercompanyRecFlag());
+			this.setNativeCost(tlewTransactionData.getNativeCost());
+			if (tlewTransactionData.isNativeCostNull()) this.setNativeCostNull();
+			this.setNativeCurrencyCode(tlewTransactionData.getNativeCurrencyCode());
+			this.setNativeMarketValue(tlewTransactionData.getNativeMarketValue());
+			if (tlewTransactionData.isNativeMarketValueNull()) this.setNativeMarketValueNull();
+			this.setNotionalValue(tlewTransactionData.getNotionalValue());
+			if (tlewTransactionData.isNotionalValueNull()) this.setNotionalValueNull();
+			this.setPayCurrencyCode(tlewTransactionData.getPayCurrencyCode());
+			this.setProcessingDateFrom(tlewTransactionData.getProcessingDateFrom());
+			this.setProcessingDateTo(tlewTransactionData.getProcessingDateTo());
+			this.setProductGlobalClass(tlewTransactionData.getProductGlobalClass());
+			if (tlewTransactionData.isProductGlobalClassNull()) this.setProductGlobalClassNull();
+			this.setReceiveCurrencyCode(tlewTransactionData.getReceiveCurrencyCode());
+			this.setReplacementCost(tlewTransactionData.getReplacementCost());
+			if (tlewTransactionData.isReplacementCostNull()) this.setReplacementCostNull();
+			this.setSettleDate(tlewTransactionData.getSettleDate());
+			this.setSettlementType(tlewTransactionData.getSettlementType());
+			if (tlewTransactionData.isSettlementTypeNull()) this.setSettlementTypeNull();
+			this.setTaxWithholdingAdjustment(tlewTransactionData.getTaxWithholdingAdjustment());
+			if (tlewTransactionData.isTaxWithholdingAdjustmentNull()) this.setTaxWithholdingAdjustmentNull();
+			this.setTradeDate(tlewTransactionData.getTradeDate());
+			this.setTradeQty(tlewTransactionData.getTradeQty());
+			if (tlewTransactionData.isTradeQtyNull()) this.setTradeQtyNull();
+			this.setTradeSubType(tlewTransactionData.getTradeSubType());
+			this.setTradeType(tlewTransactionData.getTradeType());
+			this.setTranRef(tlewTransactionData.getTranRef());
+			this.setUsdXRate(tlewTransactionData.getUsdXRate());
+			if (tlewTransactionData.isUsdXRateNull()) this.setUsdXRateNull();
+			this.setValuationAdjustment(tlewTransactionData.getValuationAdjustment());
+			if (tlewTransactionData.isValuationAdjustmentNull()) this.setValuationAdjustmentNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TlewTransactionData other = (TlewTransactionData) newData;
+			if ( isAcctIdNull() != other.isAcctIdNull() || getAcctId() != other.getAcctId())
+			{
+				return true;
+			}
+
+			if ( isBaseXRateNull() != other.isBaseXRateNull() || Math.abs(getBaseXRate() - other.getBaseXRate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isBusinessDateNull() ? !getBusinessDate().equals(other.getBusinessDate()) : !other.isBusinessDateNull())
+			{
+				return true;
+			}
+
+			if (!isBuySellCodeNull() ? !getBuySellCode().equals(other.getBuySellCode()) : !other.isBuySellCodeNull())
+			{
+				return true;
+			}
+
+			if (!isCalculatorNameNull() ? !getCalculatorName().equals(other.getCalculatorName()) : !other.isCalculatorNameNull())
+			{
+				return true;
+			}
+
+			if (!isCashSettleCodeNull() ? !getCashSettleCode().equals(other.getCashSettleCode()) : !other.isCashSettleCodeNull())
+			{
+				return true;
+			}
+
+			if ( isChangeCodeNull() != other.isChangeCodeNull() || getChangeCode() != other.getChangeCode())
+			{
+				return true;
+			}
+
+			if ( isCreateCodeNull() != other.isCreateCodeNull() || getCreateCode() != other.getCreateCode())
+			{
+				return true;
+			}
+
+			if ( isCrossAcctIdNull() != other.isCrossAcctIdNull() || getCrossAcctId() != other.getCrossAcctId())
+			{
+				return true;
+			}
+
+			if ( isCurrentNotionalValueNull() != other.isCurrentNotionalValueNull() || Math.abs(getCurrentNotionalValue() - other.getCurrentNotionalValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isDebtClassNull() ? !getDebtClass().equals(other.getDebtClass()) : !other.isDebtClassNull())
+			{
+				return true;
+			}
+
+			if (!isExternalTradeIdNull() ? !getExternalTradeId().equals(other.getExternalTradeId()) : !other.isExternalTradeIdNull())
+			{
+				return true;
+			}
+
+			if ( isFactorFeeAdjustmentNull() != other.isFactorFeeAdjustmentNull() || Math.abs(getFactorFeeAdjustment() - other.getFactorFeeAdjustment()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isFirmRiskAcctNameNull() ? !getFirmRiskAcctName().equals(other.getFirmRiskAcctName()) : !other.isFirmRiskAcctNameNull())
+			{
+				return true;
+			}
+
+			if ( isInitialNotionalNull() != other.isInitialNotionalNull() || Math.abs(getInitialNotional() - other.getInitialNotional()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isInstrumentIdNull() != other.isInstrumentIdNull() || getInstrumentId() != other.getInstrumentId())
+			{
+				return true;
+			}
+
+			if ( isInterCompanyTypeNull() != other.isInterCompanyTypeNull() || getInterCompanyType() != other.getInterCompanyType())
+			{
+				return true;
+			}
+
+			if (!isIntercompanyRecFlagNull() ? !getIntercompanyRecFlag().equals(other.getIntercompanyRecFlag()) : !other.isIntercompanyRecFlagNull())
+			{
+				return true;
+			}
+
+			if ( isNativeCostNull() != other.isNativeCostNull() || Math.abs(getNativeCost() - other.getNativeCost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isNativeCurrencyCodeNull() ? !getNativeCurrencyCode().equals(other.getNativeCurrencyCode()) : !other.isNativeCurrencyCodeNull())
+			{
+				return true;
+			}
+
+			if ( isNativeMarketValueNull() != other.isNativeMarketValueNull() || Math.abs(getNativeMarketValue() - other.getNativeMarketValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isNotionalValueNull() != other.isNotionalValueNull() || Math.abs(getNotionalValue() - other.getNotionalValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isPayCurrencyCodeNull() ? !getPayCurrencyCode().equals(other.getPayCurrencyCode()) : !other.isPayCurrencyCodeNull())
+			{
+				return true;
+			}
+
+			if ( isProductGlobalClassNull() != other.isProductGlobalClassNull() || getProductGlobalClass() != other.getProductGlobalClass())
+			{
+				return true;
+			}
+
+			if (!isReceiveCurrencyCodeNull() ? !getReceiveCurrencyCode().equals(other.getReceiveCurrencyCode()) : !other.isReceiveCurrencyCodeNull())
+			{
+				return true;
+			}
+
+			if ( isReplacementCostNull() != other.isReplacementCostNull() || Math.abs(getReplacementCost() - other.getReplacementCost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isSettleDateNull() ? !getSettleDate().equals(other.getSettleDate()) : !other.isSettleDateNull())
+			{
+				return true;
+			}
+
+			if ( isSettlementTypeNull() != other.isSettlementTypeNull() || getSettlementType() != other.getSettlementType())
+			{
+				return true;
+			}
+
+			if ( isTaxWithholdingAdjustmentNull() != other.isTaxWithholdingAdjustmentNull() || Math.abs(getTaxWithholdingAdjustment() - other.getTaxWithholdingAdjustment()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isTradeDateNull() ? !getTradeDate().equals(other.getTradeDate()) : !other.isTradeDateNull())
+			{
+				return true;
+			}
+
+			if ( isTradeQtyNull() != other.isTradeQtyNull() || Math.abs(getTradeQty() - other.getTradeQty()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isTradeSubTypeNull() ? !getTradeSubType().equals(other.getTradeSubType()) : !other.isTradeSubTypeNull())
+			{
+				return true;
+			}
+
+			if (!isTradeTypeNull() ? !getTradeType().equals(other.getTradeType()) : !other.isTradeTypeNull())
+			{
+				return true;
+			}
+
+			if (!isTranRefNull() ? !getTranRef().equals(other.getTranRef()) : !other.isTranRefNull())
+			{
+				return true;
+			}
+
+			if ( isUsdXRateNull() != other.isUsdXRateNull() || Math.abs(getUsdXRate() - other.getUsdXRate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isValuationAdjustmentNull() != other.isValuationAdjustmentNull() || Math.abs(getValuationAdjustment() - other.getValuationAdjustment()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TlewTransactionDataOnHeap copy = new TlewTransactionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TlewTransactionDataOnHeap copy = new TlewTransactionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "tranId: "+(""+getTranId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TlewTransactionData otherData = (TlewTransactionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TlewTransactionData otherData = (TlewTransactionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TlewTransactionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TlewTransactionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TlewTransactionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TlewTransactionData";
+		}
+	}
+}
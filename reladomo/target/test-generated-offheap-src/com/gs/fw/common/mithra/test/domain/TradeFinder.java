@@ -0,0 +1,903 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TradeFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Trade";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Trade";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Trade");
+	private static final TradeSingleFinder<Trade, Object, Trade> finder = new TradeSingleFinder<Trade, Object, Trade>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TradeFinder.TradeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("tradeId");
+		finderMethodMap.addNormalAttributeName("tradeRef");
+		finderMethodMap.addNormalAttributeName("createCode");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = TradeFinder.tradeRef().constructEqualityMapper(TradeFinder.tradeRef());
+			result[1] = TradeFinder.createCode().constructEqualityMapper(TradeFinder.createCode());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Trade findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Trade findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TradeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TradeList) finder.findMany(operation);
+	}
+
+	public static TradeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TradeList) finder.findManyBypassCache(operation);
+	}
+
+	private static Trade findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Trade) FinderUtils.findOne(found);
+	}
+
+	public static Trade findByPrimaryKey(int tradeId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(tradeId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TradeData _castedTargetData = (TradeData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getTradeId())
+			{
+				return TradeFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TradeFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Trade zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Trade) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TradeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Trade, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> tradeId;
+		private StringAttribute<ParentOwnerType> tradeRef;
+		private ShortAttribute<ParentOwnerType> createCode;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TradeRelatedFinder()
+		{
+			super();
+		}
+
+		public TradeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TradeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TradeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TradeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TradeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.tradeId();
+			attributes[1] = this.tradeRef();
+			attributes[2] = this.createCode();
+			attributes[3] = this.businessDateFrom();
+			attributes[4] = this.businessDateTo();
+			attributes[5] = this.processingDateFrom();
+			attributes[6] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Trade findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TradeFinder.findOne(operation, false);
+		}
+
+		public Trade findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TradeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Trade> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TradeList((Operation) operation);
+		}
+
+		public MithraList<? extends Trade> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TradeList result = (TradeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Trade> constructEmptyList()
+		{
+			return new TradeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -63739688;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> tradeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.tradeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TRADE_I","","tradeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,4,-1,-1,false, false) :
+					new MappedIntegerAttribute(TradeFinder.tradeId(), this.mapper, this.zGetValueSelector());
+				this.tradeId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> tradeRef()
+		{
+			StringAttribute<ParentOwnerType> result = this.tradeRef;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRADE_REF_N","","tradeRef",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,42,-1,-1,20,true, false) :
+					new MappedStringAttribute(TradeFinder.tradeRef(), this.mapper, this.zGetValueSelector());
+				this.tradeRef = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> createCode()
+		{
+			ShortAttribute<ParentOwnerType> result = this.createCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("TRADE_CREATE_C","","createCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,24,-1,-1, false) :
+					new MappedShortAttribute(TradeFinder.createCode(), this.mapper, this.zGetValueSelector());
+				this.createCode = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TradeFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TradeFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TradeFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TradeFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,26,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TradeFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TradeFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,34,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TradeFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TradeFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TradeFinder.businessDateInfinity,false,false,TradeFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TradeFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TradeFinder.processingDateInfinity,false,true,TradeFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TradeFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public TradeFinder.TradeCollectionFinderForRelatedClasses<ParentOwnerType, TradeList, Trade> tradesByTradeRef(Timestamp busDate, Timestamp procDate)
+		{
+			TradeTradesByTradeRefFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(TradeFinder.zGetTradeTradesByTradeRefReverseMapper(busDate, procDate));
+			newMapper.setToMany(true);
+			result = new TradeTradesByTradeRefFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,busDate, procDate);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TradeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TradeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TradeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TradeRelatedFinder<ParentOwnerType, ReturnType, TradeList, OwnerType>
+	{
+		public TradeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TradeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TradeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TradeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TradeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TradeRelatedFinder<ParentOwnerType, ReturnType, TradeList, OwnerType>
+	implements ToOneFinder
+	{
+		public TradeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TradeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Trade other)
+		{
+			return this.tradeId().eq(other.getTradeId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Trade findByPrimaryKey(int tradeId, Timestamp businessDate, Timestamp processingDate)
+		{
+			Trade _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(tradeId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Trade) _related;
+			if (_related == null)
+			{
+				_op = this.tradeId().eq(tradeId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TradeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TradeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TradeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static Mapper zGetTradeTradesByTradeRefReverseMapper(Timestamp busDate, Timestamp procDate)
+	{
+		return zConstructTradeTradesByTradeRefReverseMapper(busDate, procDate);
+	}
+
+	public static Mapper zGetTradeTradesByTradeRefMapper(Timestamp busDate, Timestamp procDate)
+	{
+		return zConstructTradeTradesByTradeRefMapper(busDate, procDate);
+	}
+
+	private static Mapper tradesByTradeRefPureReverseMapper = null;
+	public static Mapper zGetTradeTradesByTradeRefPureReverseMapper()
+	{
+		if (tradesByTradeRefPureReverseMapper == null)
+		{
+			tradesByTradeRefPureReverseMapper = zConstructTradeTradesByTradeRefPureReverseMapper();
+		}
+
+		return tradesByTradeRefPureReverseMapper;
+	}
+
+	private static Mapper zConstructTradeTradesByTradeRefPureReverseMapper()
+	{
+		InternalList tradesByTradeRefMapperMapperList = new InternalList(2);
+		tradesByTradeRefMapperMapperList.add(TradeFinder.zGetConstantJoin(0));
+		tradesByTradeRefMapperMapperList.add(TradeFinder.zGetConstantJoin(1));
+		Mapper tradesByTradeRefMapper = new MultiEqualityMapper(tradesByTradeRefMapperMapperList);
+		tradesByTradeRefMapper.setName("tradesByTradeRef");
+		return tradesByTradeRefMapper;
+	}
+
+	private static Mapper zConstructTradeTradesByTradeRefReverseMapper(Timestamp busDate, Timestamp procDate)
+	{
+		InternalList tradesByTradeRefMapperInnerMapperMapperList = new InternalList(2);
+		tradesByTradeRefMapperInnerMapperMapperList.add(TradeFinder.zGetConstantJoin(0));
+		tradesByTradeRefMapperInnerMapperMapperList.add(TradeFinder.zGetConstantJoin(1));
+		Mapper tradesByTradeRefMapperInnerMapper = new MultiEqualityMapper(tradesByTradeRefMapperInnerMapperMapperList);
+		Mapper tradesByTradeRefMapper = new FilteredMapper(tradesByTradeRefMapperInnerMapper, null, TradeFinder.businessDate().eq(busDate).and(TradeFinder.processingDate().eq(procDate)));
+		tradesByTradeRefMapper.setName("tradesByTradeRef");
+		return tradesByTradeRefMapper;
+	}
+
+	private static Mapper zConstructTradeTradesByTradeRefMapper(Timestamp busDate, Timestamp procDate)
+	{
+		InternalList tradesByTradeRefMapperInnerMapperMapperList = new InternalList(2);
+		tradesByTradeRefMapperInnerMapperMapperList.add(TradeFinder.zGetConstantJoin(0));
+		tradesByTradeRefMapperInnerMapperMapperList.add(TradeFinder.zGetConstantJoin(1));
+		Mapper tradesByTradeRefMapperInnerMapper = new MultiEqualityMapper(tradesByTradeRefMapperInnerMapperMapperList);
+		Mapper tradesByTradeRefMapper = new FilteredMapper(tradesByTradeRefMapperInnerMapper, TradeFinder.businessDate().eq(busDate).and(TradeFinder.processingDate().eq(procDate)), null);
+		tradesByTradeRefMapper.setName("tradesByTradeRef_Reverse");
+		return tradesByTradeRefMapper;
+	}
+
+	/** maps to TRADE.TRADE_I **/
+	public static IntegerAttribute<Trade> tradeId()
+	{
+		return finder.tradeId();
+	}
+
+	/** maps to TRADE.TRADE_REF_N **/
+	public static StringAttribute<Trade> tradeRef()
+	{
+		return finder.tradeRef();
+	}
+
+	/** maps to TRADE.TRADE_CREATE_C **/
+	public static ShortAttribute<Trade> createCode()
+	{
+		return finder.createCode();
+	}
+
+	/** maps to TRADE.FROM_Z **/
+	public static TimestampAttribute<Trade> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TRADE.THRU_Z **/
+	public static TimestampAttribute<Trade> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to TRADE.IN_Z **/
+	public static TimestampAttribute<Trade> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TRADE.OUT_Z **/
+	public static TimestampAttribute<Trade> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<Trade> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<Trade> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static TradeFinder.TradeCollectionFinderForRelatedClasses<Trade, TradeList, Trade> tradesByTradeRef(Timestamp busDate, Timestamp procDate)
+	{
+		return finder.tradesByTradeRef(busDate, procDate);
+	}
+
+	public static class TradeTradesByTradeRefFinderSubclass<ParentOwnerType> extends TradeFinder.TradeCollectionFinderForRelatedClasses<ParentOwnerType, TradeList, Trade>
+	{
+		private Timestamp busDate;
+		private Timestamp procDate;
+		public TradeTradesByTradeRefFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp busDate, Timestamp procDate)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.busDate = busDate;
+			this.procDate = procDate;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "tradesByTradeRef";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TradeTradesByTradeRefFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.busDate
+			, this.procDate
+			);
+		}
+
+		protected TradeList plainValueOf(Trade _obj)
+		{
+			return _obj.getTradesByTradeRef(busDate, procDate);
+		}
+
+		protected TradeList plainListValueOf(Object _obj)
+		{
+			return ((TradeList)_obj).getTradesByTradeRef(busDate, procDate);
+		}
+	}
+
+	public static Operation eq(Trade other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(tradeId());
+	}
+
+	public static TradeSingleFinder<Trade, Object, Trade> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			tradeId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			tradeId()
+			, tradeId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			createCode()
+			, tradeRef()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Trade");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,183 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TradeListAbstract extends DelegatingList<Trade> implements MithraDatedTransactionalList<Trade>
+{
+	public TradeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TradeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TradeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TradeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Trade[] elements()
+	{
+		Trade[] result = new Trade[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TradeList intersection(TradeList another)
+	{
+		return (TradeList)super.intersection(another);
+	}
+
+	public Trade getTradeAt(int index)
+	{
+		return (Trade)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.tradeRef = Trade.tradeRef and
+	Trade.businessDate = {busDate} and
+	Trade.processingDate = {procDate} and
+	this.createCode = Trade.createCode</pre>
+	* @return trades by trade ref
+	*/
+	public TradeList getTradesByTradeRef(Timestamp busDate, Timestamp procDate)
+	{
+		return (TradeList) this.zGetDelegated().resolveRelationship(this, TradeFinder.tradesByTradeRef(busDate, procDate));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TradeFinder.getMithraObjectPortal();
+	}
+
+	public TradeList getNonPersistentCopy()
+	{
+		TradeList result = new TradeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TradeList asAdhoc()
+	{
+		return (TradeList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Trade> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TradeList merge(MithraTransactionalList<Trade> incoming, TopLevelMergeOptions<Trade> mergeOptions)
+	{
+		return (TradeList) super.merge(incoming, mergeOptions);
+	}
+
+	public TradeList getDetachedCopy()
+	{
+		TradeList result = new TradeList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setTradeId(int newValue)
+	{
+		zSetInteger(TradeFinder.tradeId(), newValue);
+	}
+
+	public void setTradeRef(String newValue)
+	{
+		zSetString(TradeFinder.tradeRef(), newValue);
+	}
+
+	public void setCreateCode(short newValue)
+	{
+		zSetShort(TradeFinder.createCode(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TradeFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TradeFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TradeFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TradeFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,453 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class TrialAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy forbug = new BugRhs();
+	private static final class BugRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Trial _castedSrcObject = (Trial) _srcObject;
+			BusinessUnitGroup _castedTargetData = (BusinessUnitGroup) _targetData;
+			if (!_castedSrcObject.isBugIdNull() && _castedSrcObject.getBugId().equals(_castedTargetData.getId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Trial _castedSrcObject = (Trial) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getBugId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Trial _castedSrcObject = (Trial) _srcObject;
+			return HashUtil.offHeapHash(_castedSrcObject.getBugId());
+		}
+	}
+
+	private String bugId;
+	private String description;
+	private String trialId;
+	public boolean isBugIdNull()
+	{
+		return this.getBugId() == null;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isTrialIdNull()
+	{
+		return this.getTrialId() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.bugId);
+		out.writeObject(this.description);
+		out.writeObject(this.trialId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		TrialData data = new TrialData();
+		data.setBugId(bugId);
+		data.setDescription(description);
+		data.setTrialId(trialId);
+		return data;
+	}
+
+	public Trial getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		TrialAbstract copy = (TrialAbstract) TrialFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Trial)copy;
+	}
+
+	protected void zSetFromTrialData(TrialData data)
+	{
+		this.setFromTrialData(data);
+	}
+
+	public void setFromTrialData(TrialData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		bugId = data.getBugId();
+		description = data.getDescription();
+		trialId = data.getTrialId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TrialFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromTrialData((TrialData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getBugId()
+	{
+		return this.bugId;
+	}
+
+	public void setBugId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.bugId = StringPool.getInstance().getOrAddToCache(value, TrialFinder.isFullCache());
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public void setDescription(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.description = StringPool.getInstance().getOrAddToCache(value, TrialFinder.isFullCache());
+	}
+
+	public String getTrialId()
+	{
+		return this.trialId;
+	}
+
+	public void setTrialId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.trialId = StringPool.getInstance().getOrAddToCache(value, TrialFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BusinessUnitGroup.id = this.bugId</pre>
+	* @return The bug
+	*/
+	public BusinessUnitGroup getBug()
+	{
+		BusinessUnitGroup _result = null;
+		if (_relationships != null)
+		{
+			_result = (BusinessUnitGroup)(_relationships[2]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isBugIdNull())
+			{
+				_portal = BusinessUnitGroupFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forbug, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (BusinessUnitGroup) _related;
+				if (_related == null)
+				{
+					_result = BusinessUnitGroupFinder.zFindOneForRelationship(zGetBugOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Account.trialId = this.trialId and Account.deskId = "A"</pre>
+	* @see Account#getTrialA() reverse relationship Account.getTrialA()
+	* @return accounts from a
+	*/
+	public AccountList getAccountsFromA()
+	{
+		AccountList _result = null;
+		if (_relationships != null)
+		{
+			_result = (AccountList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new AccountList(zGetAccountsFromAOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Account.trialId = this.trialId and Account.deskId = "B"</pre>
+	* @see Account#getTrialB() reverse relationship Account.getTrialB()
+	* @return accounts from b
+	*/
+	public AccountList getAccountsFromB()
+	{
+		AccountList _result = null;
+		if (_relationships != null)
+		{
+			_result = (AccountList)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new AccountList(zGetAccountsFromBOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setBug(BusinessUnitGroup bug)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[2] = bug;
+		if (bug == null)
+		{
+			this.setBugId(null);
+		}
+		else
+		{
+			this.setBugId(bug.getId());
+		}
+	}
+
+	public void setAccountsFromA(AccountList accountsFromA)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[0] = accountsFromA;
+	}
+
+	public void setAccountsFromB(AccountList accountsFromB)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[1] = accountsFromB;
+	}
+
+	public Operation zGetBugOperation()
+	{
+		TrialAbstract _data = this;
+		return BusinessUnitGroupFinder.id().eq(_data.getBugId());
+	}
+
+	public Operation zGetAccountsFromAOperation()
+	{
+		TrialAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(TrialFinder.accountsFromA().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetAccountsFromBOperation()
+	{
+		TrialAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(TrialFinder.accountsFromB().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final TrialData trialData = (TrialData) newData;
+		if (!isBugIdNull() ? !getBugId().equals(trialData.getBugId()) : !trialData.isBugIdNull())
+		{
+			return true;
+		}
+
+		if (!isDescriptionNull() ? !getDescription().equals(trialData.getDescription()) : !trialData.isDescriptionNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "trialId: "+"'"+getTrialId()+"'"+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeObject(this.trialId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.bugId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TrialFinder.isFullCache());
+			this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TrialFinder.isFullCache());
+			this.trialId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TrialFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.trialId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TrialFinder.isFullCache());
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = TrialFinder.trialId().eq(this.getTrialId());
+			return TrialFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,985 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TrialFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Trial";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Trial";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Trial");
+	private static final TrialSingleFinder<Trial, Object, Trial> finder = new TrialSingleFinder<Trial, Object, Trial>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TrialFinder.TrialRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("trialId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("bugId");
+		finderMethodMap.addRelationshipName("bug");
+		finderMethodMap.addRelationshipName("accountsFromA");
+		finderMethodMap.addRelationshipName("accountsFromB");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = TrialFinder.bugId().constructEqualityMapper(BusinessUnitGroupFinder.id());
+			result[1] = BusinessUnitGroupFinder.id().constructEqualityMapper(TrialFinder.bugId());
+			result[2] = TrialFinder.trialId().constructEqualityMapper(AccountFinder.trialId());
+			result[3] = AccountFinder.trialId().constructEqualityMapper(TrialFinder.trialId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Trial findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Trial findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TrialList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TrialList) finder.findMany(operation);
+	}
+
+	public static TrialList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TrialList) finder.findManyBypassCache(operation);
+	}
+
+	private static Trial findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Trial) FinderUtils.findOne(found);
+	}
+
+	public static Trial findByPrimaryKey(String trialId)
+	{
+		return finder.findByPrimaryKey(trialId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Trial _castedTargetData = (Trial) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getTrialId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static Trial zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Trial) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TrialRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Trial, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> trialId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> bugId;
+		private TrialBugFinderSubclass<ParentOwnerType> bug;
+		private TrialAccountsFromAFinderSubclass<ParentOwnerType> accountsFromA;
+		private TrialAccountsFromBFinderSubclass<ParentOwnerType> accountsFromB;
+		public TrialRelatedFinder()
+		{
+			super();
+		}
+
+		public TrialRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TrialFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TrialFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TrialFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TrialFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.trialId();
+			attributes[1] = this.description();
+			attributes[2] = this.bugId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.bug());
+				relatedFinders.add(this.accountsFromA());
+				relatedFinders.add(this.accountsFromB());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Trial findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TrialFinder.findOne(operation, false);
+		}
+
+		public Trial findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TrialFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Trial> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TrialList((Operation) operation);
+		}
+
+		public MithraList<? extends Trial> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TrialList result = (TrialList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Trial> constructEmptyList()
+		{
+			return new TrialList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 952708898;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> trialId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trialId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRIAL_ID","","trialId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,4,true, false) :
+					new MappedStringAttribute(TrialFinder.trialId(), this.mapper, this.zGetValueSelector());
+				this.trialId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,30,true, false) :
+					new MappedStringAttribute(TrialFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> bugId()
+		{
+			StringAttribute<ParentOwnerType> result = this.bugId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("BUG_ID","","bugId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,4,true, false) :
+					new MappedStringAttribute(TrialFinder.bugId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("bug");
+				this.bugId = result;
+			}
+
+			return result;
+		}
+
+		public BusinessUnitGroupFinder.BusinessUnitGroupSingleFinderForRelatedClasses<ParentOwnerType, BusinessUnitGroup, Trial> bug()
+		{
+			TrialBugFinderSubclass<ParentOwnerType> result = this.bug;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TrialFinder.zGetTrialBugReverseMapper());
+				newMapper.setToMany(false);
+				result = new TrialBugFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.bug = result;
+			}
+
+			return result;
+		}
+
+		public AccountFinder.AccountCollectionFinderForRelatedClasses<ParentOwnerType, AccountList, Trial> accountsFromA()
+		{
+			TrialAccountsFromAFinderSubclass<ParentOwnerType> result = this.accountsFromA;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TrialFinder.zGetTrialAccountsFromAReverseMapper());
+				newMapper.setToMany(true);
+				result = new TrialAccountsFromAFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.accountsFromA = result;
+			}
+
+			return result;
+		}
+
+		public AccountFinder.AccountCollectionFinderForRelatedClasses<ParentOwnerType, AccountList, Trial> accountsFromB()
+		{
+			TrialAccountsFromBFinderSubclass<ParentOwnerType> result = this.accountsFromB;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TrialFinder.zGetTrialAccountsFromBReverseMapper());
+				newMapper.setToMany(true);
+				result = new TrialAccountsFromBFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.accountsFromB = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TrialFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TrialFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TrialCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TrialRelatedFinder<ParentOwnerType, ReturnType, TrialList, OwnerType>
+	{
+		public TrialCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TrialCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TrialCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TrialCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TrialSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TrialRelatedFinder<ParentOwnerType, ReturnType, TrialList, OwnerType>
+	implements ToOneFinder
+	{
+		public TrialSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TrialSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Trial other)
+		{
+			return this.trialId().eq(other.getTrialId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Trial findByPrimaryKey(String trialId)
+		{
+			Trial _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (trialId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(trialId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Trial) _related;
+			if (_related == null)
+			{
+				_op = this.trialId().eq(trialId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TrialSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TrialSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TrialSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper bugReverseMapper = null;
+	public static Mapper zGetTrialBugReverseMapper()
+	{
+		if (bugReverseMapper == null)
+		{
+			bugReverseMapper = zConstructTrialBugReverseMapper();
+		}
+
+		return bugReverseMapper;
+	}
+
+	private static Mapper bugMapper = null;
+	public static Mapper zGetTrialBugMapper()
+	{
+		if (bugMapper == null)
+		{
+			bugMapper = zConstructTrialBugMapper();
+		}
+
+		return bugMapper;
+	}
+
+	private static Mapper bugPureReverseMapper = null;
+	public static Mapper zGetTrialBugPureReverseMapper()
+	{
+		if (bugPureReverseMapper == null)
+		{
+			bugPureReverseMapper = zConstructTrialBugPureReverseMapper();
+		}
+
+		return bugPureReverseMapper;
+	}
+
+	private static Mapper zConstructTrialBugPureReverseMapper()
+	{
+		Mapper bugMapper = TrialFinder.zGetConstantJoin(0);
+		bugMapper.setName("bug");
+		return bugMapper;
+	}
+
+	private static Mapper zConstructTrialBugReverseMapper()
+	{
+		Mapper bugMapper = TrialFinder.zGetConstantJoin(0);
+		bugMapper.setName("bug");
+		return bugMapper;
+	}
+
+	private static Mapper zConstructTrialBugMapper()
+	{
+		Mapper bugMapper = TrialFinder.zGetConstantJoin(1);
+		bugMapper.setName("bug_Reverse");
+		return bugMapper;
+	}
+
+	private static Mapper accountsFromAReverseMapper = null;
+	public static Mapper zGetTrialAccountsFromAReverseMapper()
+	{
+		if (accountsFromAReverseMapper == null)
+		{
+			accountsFromAReverseMapper = zConstructTrialAccountsFromAReverseMapper();
+		}
+
+		return accountsFromAReverseMapper;
+	}
+
+	private static Mapper accountsFromAMapper = null;
+	public static Mapper zGetTrialAccountsFromAMapper()
+	{
+		if (accountsFromAMapper == null)
+		{
+			accountsFromAMapper = zConstructTrialAccountsFromAMapper();
+		}
+
+		return accountsFromAMapper;
+	}
+
+	private static Mapper accountsFromAPureReverseMapper = null;
+	public static Mapper zGetTrialAccountsFromAPureReverseMapper()
+	{
+		if (accountsFromAPureReverseMapper == null)
+		{
+			accountsFromAPureReverseMapper = zConstructTrialAccountsFromAPureReverseMapper();
+		}
+
+		return accountsFromAPureReverseMapper;
+	}
+
+	private static Mapper zConstructTrialAccountsFromAPureReverseMapper()
+	{
+		Mapper accountsFromAMapper = TrialFinder.zGetConstantJoin(2);
+		accountsFromAMapper.setName("accountsFromA");
+		return accountsFromAMapper;
+	}
+
+	private static Mapper zConstructTrialAccountsFromAReverseMapper()
+	{
+		Mapper accountsFromAMapperInnerMapper = TrialFinder.zGetConstantJoin(2);
+		Mapper accountsFromAMapper = new FilteredMapper(accountsFromAMapperInnerMapper, null, AccountFinder.zGetConstantOperation(0));
+		accountsFromAMapper.setName("accountsFromA");
+		return accountsFromAMapper;
+	}
+
+	private static Mapper zConstructTrialAccountsFromAMapper()
+	{
+		Mapper accountsFromAMapperInnerMapper = AccountFinder.zGetConstantJoin(4);
+		Mapper accountsFromAMapper = new FilteredMapper(accountsFromAMapperInnerMapper, AccountFinder.zGetConstantOperation(0), null);
+		accountsFromAMapper.setName("trialA");
+		return accountsFromAMapper;
+	}
+
+	private static Mapper accountsFromBReverseMapper = null;
+	public static Mapper zGetTrialAccountsFromBReverseMapper()
+	{
+		if (accountsFromBReverseMapper == null)
+		{
+			accountsFromBReverseMapper = zConstructTrialAccountsFromBReverseMapper();
+		}
+
+		return accountsFromBReverseMapper;
+	}
+
+	private static Mapper accountsFromBMapper = null;
+	public static Mapper zGetTrialAccountsFromBMapper()
+	{
+		if (accountsFromBMapper == null)
+		{
+			accountsFromBMapper = zConstructTrialAccountsFromBMapper();
+		}
+
+		return accountsFromBMapper;
+	}
+
+	private static Mapper accountsFromBPureReverseMapper = null;
+	public static Mapper zGetTrialAccountsFromBPureReverseMapper()
+	{
+		if (accountsFromBPureReverseMapper == null)
+		{
+			accountsFromBPureReverseMapper = zConstructTrialAccountsFromBPureReverseMapper();
+		}
+
+		return accountsFromBPureReverseMapper;
+	}
+
+	private static Mapper zConstructTrialAccountsFromBPureReverseMapper()
+	{
+		Mapper accountsFromBMapper = TrialFinder.zGetConstantJoin(2);
+		accountsFromBMapper.setName("accountsFromB");
+		return accountsFromBMapper;
+	}
+
+	private static Mapper zConstructTrialAccountsFromBReverseMapper()
+	{
+		Mapper accountsFromBMapperInnerMapper = TrialFinder.zGetConstantJoin(2);
+		Mapper accountsFromBMapper = new FilteredMapper(accountsFromBMapperInnerMapper, null, AccountFinder.zGetConstantOperation(1));
+		accountsFromBMapper.setName("accountsFromB");
+		return accountsFromBMapper;
+	}
+
+	private static Mapper zConstructTrialAccountsFromBMapper()
+	{
+		Mapper accountsFromBMapperInnerMapper = AccountFinder.zGetConstantJoin(4);
+		Mapper accountsFromBMapper = new FilteredMapper(accountsFromBMapperInnerMapper, AccountFinder.zGetConstantOperation(1), null);
+		accountsFromBMapper.setName("trialB");
+		return accountsFromBMapper;
+	}
+
+	/** maps to TRIAL.TRIAL_ID **/
+	public static StringAttribute<Trial> trialId()
+	{
+		return finder.trialId();
+	}
+
+	/** maps to TRIAL.DESCRIPTION **/
+	public static StringAttribute<Trial> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to TRIAL.BUG_ID **/
+	public static StringAttribute<Trial> bugId()
+	{
+		return finder.bugId();
+	}
+
+	public static BusinessUnitGroupFinder.BusinessUnitGroupSingleFinderForRelatedClasses<Trial, BusinessUnitGroup, Trial> bug()
+	{
+		return finder.bug();
+	}
+
+	public static class TrialBugFinderSubclass<ParentOwnerType> extends BusinessUnitGroupFinder.BusinessUnitGroupSingleFinderForRelatedClasses<ParentOwnerType, BusinessUnitGroup, Trial>
+	{
+		public TrialBugFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "bug";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TrialBugFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BusinessUnitGroup plainValueOf(Trial _obj)
+		{
+			return _obj.getBug();
+		}
+
+		protected BusinessUnitGroupList plainListValueOf(Object _obj)
+		{
+			return ((TrialList)_obj).getBugs();
+		}
+	}
+
+	public static AccountFinder.AccountCollectionFinderForRelatedClasses<Trial, AccountList, Trial> accountsFromA()
+	{
+		return finder.accountsFromA();
+	}
+
+	public static class TrialAccountsFromAFinderSubclass<ParentOwnerType> extends AccountFinder.AccountCollectionFinderForRelatedClasses<ParentOwnerType, AccountList, Trial>
+	{
+		public TrialAccountsFromAFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "accountsFromA";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AccountFinder.deskId(),
+				AccountFinder.trialId()).withExtractors(
+				((OperationWithParameterExtractor)AccountFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				TrialFinder.trialId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TrialAccountsFromAFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AccountList plainValueOf(Trial _obj)
+		{
+			return _obj.getAccountsFromA();
+		}
+
+		protected AccountList plainListValueOf(Object _obj)
+		{
+			return ((TrialList)_obj).getAccountsFromA();
+		}
+	}
+
+	public static AccountFinder.AccountCollectionFinderForRelatedClasses<Trial, AccountList, Trial> accountsFromB()
+	{
+		return finder.accountsFromB();
+	}
+
+	public static class TrialAccountsFromBFinderSubclass<ParentOwnerType> extends AccountFinder.AccountCollectionFinderForRelatedClasses<ParentOwnerType, AccountList, Trial>
+	{
+		public TrialAccountsFromBFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "accountsFromB";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AccountFinder.deskId(),
+				AccountFinder.trialId()).withExtractors(
+				((OperationWithParameterExtractor)AccountFinder.zGetConstantOperation(1)).getParameterExtractor(),
+				TrialFinder.trialId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TrialAccountsFromBFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AccountList plainValueOf(Trial _obj)
+		{
+			return _obj.getAccountsFromB();
+		}
+
+		protected AccountList plainListValueOf(Object _obj)
+		{
+			return ((TrialList)_obj).getAccountsFromB();
+		}
+	}
+
+	public static Operation eq(Trial other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(trialId());
+	}
+
+	public static TrialSingleFinder<Trial, Object, Trial> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			trialId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			trialId()
+			, trialId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			bugId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			BusinessUnitGroupFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			BusinessUnitGroupFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Trial");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
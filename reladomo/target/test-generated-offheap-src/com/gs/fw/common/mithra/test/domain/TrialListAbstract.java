@@ -0,0 +1,140 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TrialListAbstract extends DelegatingList<Trial> implements MithraList<Trial>
+{
+	public TrialListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TrialListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TrialListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TrialListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Trial[] elements()
+	{
+		Trial[] result = new Trial[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TrialList intersection(TrialList another)
+	{
+		return (TrialList)super.intersection(another);
+	}
+
+	public Trial getTrialAt(int index)
+	{
+		return (Trial)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BusinessUnitGroup.id = this.bugId</pre>
+	* @return The bug
+	*/
+	public BusinessUnitGroupList getBugs()
+	{
+		return (BusinessUnitGroupList) this.zGetDelegated().resolveRelationship(this, TrialFinder.bug());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Account.trialId = this.trialId and Account.deskId = "A"</pre>
+	* @see Account#getTrialA() reverse relationship Account.getTrialA()
+	* @return accounts from a
+	*/
+	public AccountList getAccountsFromA()
+	{
+		return (AccountList) this.zGetDelegated().resolveRelationship(this, TrialFinder.accountsFromA());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Account.trialId = this.trialId and Account.deskId = "B"</pre>
+	* @see Account#getTrialB() reverse relationship Account.getTrialB()
+	* @return accounts from b
+	*/
+	public AccountList getAccountsFromB()
+	{
+		return (AccountList) this.zGetDelegated().resolveRelationship(this, TrialFinder.accountsFromB());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TrialFinder.getMithraObjectPortal();
+	}
+
+	public TrialList getNonPersistentCopy()
+	{
+		TrialList result = new TrialList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TrialList asAdhoc()
+	{
+		return (TrialList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Trial> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,586 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class UnconfiguredBitemporalOrderStatusFilterDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "IS_AWESOME,IN_Z,OUT_Z,FROM_Z,THRU_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.IS_AWESOME,t0.IN_Z,t0.OUT_Z,t0.FROM_Z,t0.THRU_Z";
+	private static final String PK_WITH_ALIAS = "t0.LAST_USER = ?";
+	private static final String PK_INDEX_COLS = "LAST_USER";
+	protected UnconfiguredBitemporalOrderStatusFilterDatabaseObjectAbstract()
+	{
+		super("UnconfiguredBitemporalOrderStatusFilter", "com.gs.fw.common.mithra.test.domain.UnconfiguredBitemporalOrderStatusFilterFinder",
+			6, 6,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return UnconfiguredBitemporalOrderStatusFilterFinder.getFinderInstance();
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFilterData allocateOnHeapData()
+	{
+		return new UnconfiguredBitemporalOrderStatusFilterData.UnconfiguredBitemporalOrderStatusFilterDataOnHeap();
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFilterData allocateOffHeapData()
+	{
+		return new UnconfiguredBitemporalOrderStatusFilterData.UnconfiguredBitemporalOrderStatusFilterDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new UnconfiguredBitemporalOrderStatusFilterData.UnconfiguredBitemporalOrderStatusFilterDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), UnconfiguredBitemporalOrderStatusFilterFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), UnconfiguredBitemporalOrderStatusFilterFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = new UnconfiguredBitemporalOrderStatusFilterData.UnconfiguredBitemporalOrderStatusFilterDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), UnconfiguredBitemporalOrderStatusFilterFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), UnconfiguredBitemporalOrderStatusFilterFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(UnconfiguredBitemporalOrderStatusFilterData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.UnconfiguredBitemporalOrderStatusFilter", UnconfiguredBitemporalOrderStatusFilterFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("UnconfiguredBitemporalOrderStatusFilter"));
+			UnconfiguredBitemporalOrderStatusFilterData.UnconfiguredBitemporalOrderStatusFilterDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(UnconfiguredBitemporalOrderStatusFilterFinder.getPrimaryKeyAttributes(), UnconfiguredBitemporalOrderStatusFilterFinder.getAsOfAttributes(), this, UnconfiguredBitemporalOrderStatusFilterFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(UnconfiguredBitemporalOrderStatusFilterFinder.getPrimaryKeyAttributes(), UnconfiguredBitemporalOrderStatusFilterFinder.getAsOfAttributes(), this, UnconfiguredBitemporalOrderStatusFilterFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(UnconfiguredBitemporalOrderStatusFilterFinder.getPrimaryKeyAttributes(), UnconfiguredBitemporalOrderStatusFilterFinder.getAsOfAttributes(), this, UnconfiguredBitemporalOrderStatusFilterFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(UnconfiguredBitemporalOrderStatusFilterFinder.getPrimaryKeyAttributes(), UnconfiguredBitemporalOrderStatusFilterFinder.getAsOfAttributes(), this, UnconfiguredBitemporalOrderStatusFilterFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(UnconfiguredBitemporalOrderStatusFilterFinder.getPrimaryKeyAttributes(), UnconfiguredBitemporalOrderStatusFilterFinder.getAsOfAttributes(), this, UnconfiguredBitemporalOrderStatusFilterFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(UnconfiguredBitemporalOrderStatusFilterData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.UnconfiguredBitemporalOrderStatusFilter", UnconfiguredBitemporalOrderStatusFilterFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			UnconfiguredBitemporalOrderStatusFilterData.UnconfiguredBitemporalOrderStatusFilterDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(UnconfiguredBitemporalOrderStatusFilterFinder.getPrimaryKeyAttributes(), UnconfiguredBitemporalOrderStatusFilterFinder.getAsOfAttributes(), this, UnconfiguredBitemporalOrderStatusFilterFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(UnconfiguredBitemporalOrderStatusFilterFinder.getPrimaryKeyAttributes(), UnconfiguredBitemporalOrderStatusFilterFinder.getAsOfAttributes(), this, UnconfiguredBitemporalOrderStatusFilterFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			UnconfiguredBitemporalOrderStatusFilterFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			UnconfiguredBitemporalOrderStatusFilterFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			UnconfiguredBitemporalOrderStatusFilter.zConfigFullTx();
+		}
+		else
+		{
+			UnconfiguredBitemporalOrderStatusFilter.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateUnconfiguredBitemporalOrderStatusFilterData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkUnconfiguredBitemporalOrderStatusFilterData(1, (UnconfiguredBitemporalOrderStatusFilterData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateUnconfiguredBitemporalOrderStatusFilterPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getUnconfiguredBitemporalOrderStatusFilterTableName();
+	}
+
+	public String getUnconfiguredBitemporalOrderStatusFilterTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getLastUser());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == UnconfiguredBitemporalOrderStatusFilterFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "LAST_USER = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.LAST_USER,t0.IS_AWESOME,t0.IN_Z,t0.OUT_Z,t0.FROM_Z,t0.THRU_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*6);
+		result.append(databaseAlias).append(".").append("LAST_USER");
+		result.append(",").append(databaseAlias).append(".").append("IS_AWESOME");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterData inflateUnconfiguredBitemporalOrderStatusFilterData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = inflateUnconfiguredBitemporalOrderStatusFilterPkData(rs, dt);
+		inflateNonPkUnconfiguredBitemporalOrderStatusFilterData(2, data, rs, dt);
+		return data;
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterData inflateUnconfiguredBitemporalOrderStatusFilterPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData _data = new UnconfiguredBitemporalOrderStatusFilterData.UnconfiguredBitemporalOrderStatusFilterDataOnHeap();
+		int _pos = 1;
+		_data.setLastUser(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkUnconfiguredBitemporalOrderStatusFilterData(int _pos, UnconfiguredBitemporalOrderStatusFilterData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			UnconfiguredBitemporalOrderStatusFilterData _data = _datax;
+			_data.setIsAwesome(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setIsAwesomeNull();
+			}
+
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				UnconfiguredBitemporalOrderStatusFilterFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getUnconfiguredBitemporalOrderStatusFilterTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "UNCONFIGURED_BITEMPORAL_ORDER_STATUS_FILTER";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isLastUserNull())
+		{
+			throwNullAttribute("lastUser");
+		}
+
+		stm.setString(pos++, data.getLastUser());
+		if (data.isIsAwesomeNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isIsAwesome());
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == UnconfiguredBitemporalOrderStatusFilterFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateToNull())
+		{
+			throwNullAttribute("businessDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "LAST_USER,IS_AWESOME,IN_Z,OUT_Z,FROM_Z,THRU_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		UnconfiguredBitemporalOrderStatusFilter newObject = new UnconfiguredBitemporalOrderStatusFilter(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromUnconfiguredBitemporalOrderStatusFilterData((UnconfiguredBitemporalOrderStatusFilterData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal(),
+			UnconfiguredBitemporalOrderStatusFilterFinder.processingDate())
+		,UnconfiguredBitemporalOrderStatusFilterFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_Z = ?";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getLastUser());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, UnconfiguredBitemporalOrderStatusFilterFinder.businessDate(),
+			UnconfiguredBitemporalOrderStatusFilterFinder.processingDate());
+	}
+}
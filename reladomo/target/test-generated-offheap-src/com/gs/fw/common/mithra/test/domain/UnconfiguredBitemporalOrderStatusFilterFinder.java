@@ -0,0 +1,780 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class UnconfiguredBitemporalOrderStatusFilterFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/UnconfiguredBitemporalOrderStatusFilter";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.UnconfiguredBitemporalOrderStatusFilter";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.UnconfiguredBitemporalOrderStatusFilter");
+	private static final UnconfiguredBitemporalOrderStatusFilterSingleFinder<UnconfiguredBitemporalOrderStatusFilter, Object, UnconfiguredBitemporalOrderStatusFilter> finder = new UnconfiguredBitemporalOrderStatusFilterSingleFinder<UnconfiguredBitemporalOrderStatusFilter, Object, UnconfiguredBitemporalOrderStatusFilter>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(UnconfiguredBitemporalOrderStatusFilterFinder.UnconfiguredBitemporalOrderStatusFilterRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("lastUser");
+		finderMethodMap.addNormalAttributeName("isAwesome");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome().eq(true);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFilter findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFilter findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFilterList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (UnconfiguredBitemporalOrderStatusFilterList) finder.findMany(operation);
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFilterList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (UnconfiguredBitemporalOrderStatusFilterList) finder.findManyBypassCache(operation);
+	}
+
+	private static UnconfiguredBitemporalOrderStatusFilter findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (UnconfiguredBitemporalOrderStatusFilter) FinderUtils.findOne(found);
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFilter findByPrimaryKey(String lastUser, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(lastUser, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			UnconfiguredBitemporalOrderStatusFilterData _castedTargetData = (UnconfiguredBitemporalOrderStatusFilterData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getLastUser()))
+			{
+				return UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && UnconfiguredBitemporalOrderStatusFilterFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFilter zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (UnconfiguredBitemporalOrderStatusFilter) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class UnconfiguredBitemporalOrderStatusFilterRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<UnconfiguredBitemporalOrderStatusFilter, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> lastUser;
+		private BooleanAttribute<ParentOwnerType> isAwesome;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public UnconfiguredBitemporalOrderStatusFilterRelatedFinder()
+		{
+			super();
+		}
+
+		public UnconfiguredBitemporalOrderStatusFilterRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.UnconfiguredBitemporalOrderStatusFilterFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return UnconfiguredBitemporalOrderStatusFilterFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return UnconfiguredBitemporalOrderStatusFilterFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return UnconfiguredBitemporalOrderStatusFilterFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.lastUser();
+			attributes[1] = this.isAwesome();
+			attributes[2] = this.processingDateFrom();
+			attributes[3] = this.processingDateTo();
+			attributes[4] = this.businessDateFrom();
+			attributes[5] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public UnconfiguredBitemporalOrderStatusFilter findOne(com.gs.fw.finder.Operation operation)
+		{
+			return UnconfiguredBitemporalOrderStatusFilterFinder.findOne(operation, false);
+		}
+
+		public UnconfiguredBitemporalOrderStatusFilter findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return UnconfiguredBitemporalOrderStatusFilterFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends UnconfiguredBitemporalOrderStatusFilter> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new UnconfiguredBitemporalOrderStatusFilterList((Operation) operation);
+		}
+
+		public MithraList<? extends UnconfiguredBitemporalOrderStatusFilter> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			UnconfiguredBitemporalOrderStatusFilterList result = (UnconfiguredBitemporalOrderStatusFilterList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends UnconfiguredBitemporalOrderStatusFilter> constructEmptyList()
+		{
+			return new UnconfiguredBitemporalOrderStatusFilterList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 884297028;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> lastUser()
+		{
+			StringAttribute<ParentOwnerType> result = this.lastUser;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LAST_USER","","lastUser",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,4,-1,-1,20,true, false) :
+					new MappedStringAttribute(UnconfiguredBitemporalOrderStatusFilterFinder.lastUser(), this.mapper, this.zGetValueSelector());
+				this.lastUser = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> isAwesome()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.isAwesome;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("IS_AWESOME","","isAwesome",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,24,-1,-1, false) :
+					new MappedBooleanAttribute(UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome(), this.mapper, this.zGetValueSelector());
+				this.isAwesome = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,25,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,UnconfiguredBitemporalOrderStatusFilterFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(UnconfiguredBitemporalOrderStatusFilterFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,33,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,UnconfiguredBitemporalOrderStatusFilterFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(UnconfiguredBitemporalOrderStatusFilterFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,UnconfiguredBitemporalOrderStatusFilterFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(UnconfiguredBitemporalOrderStatusFilterFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,UnconfiguredBitemporalOrderStatusFilterFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(UnconfiguredBitemporalOrderStatusFilterFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),UnconfiguredBitemporalOrderStatusFilterFinder.businessDateInfinity,false,false,UnconfiguredBitemporalOrderStatusFilterFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(UnconfiguredBitemporalOrderStatusFilterFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),UnconfiguredBitemporalOrderStatusFilterFinder.processingDateInfinity,false,false,UnconfiguredBitemporalOrderStatusFilterFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(UnconfiguredBitemporalOrderStatusFilterFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return UnconfiguredBitemporalOrderStatusFilterFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class UnconfiguredBitemporalOrderStatusFilterCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends UnconfiguredBitemporalOrderStatusFilterRelatedFinder<ParentOwnerType, ReturnType, UnconfiguredBitemporalOrderStatusFilterList, OwnerType>
+	{
+		public UnconfiguredBitemporalOrderStatusFilterCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class UnconfiguredBitemporalOrderStatusFilterCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends UnconfiguredBitemporalOrderStatusFilterCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public UnconfiguredBitemporalOrderStatusFilterCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class UnconfiguredBitemporalOrderStatusFilterSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends UnconfiguredBitemporalOrderStatusFilterRelatedFinder<ParentOwnerType, ReturnType, UnconfiguredBitemporalOrderStatusFilterList, OwnerType>
+	implements ToOneFinder
+	{
+		public UnconfiguredBitemporalOrderStatusFilterSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public UnconfiguredBitemporalOrderStatusFilterSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(UnconfiguredBitemporalOrderStatusFilter other)
+		{
+			return this.lastUser().eq(other.getLastUser())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public UnconfiguredBitemporalOrderStatusFilter findByPrimaryKey(String lastUser, Timestamp businessDate, Timestamp processingDate)
+		{
+			UnconfiguredBitemporalOrderStatusFilter _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (lastUser != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(lastUser);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (UnconfiguredBitemporalOrderStatusFilter) _related;
+			if (_related == null)
+			{
+				_op = this.lastUser().eq(lastUser).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class UnconfiguredBitemporalOrderStatusFilterSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends UnconfiguredBitemporalOrderStatusFilterSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public UnconfiguredBitemporalOrderStatusFilterSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to UNCONFIGURED_BITEMPORAL_ORDER_STATUS_FILTER.LAST_USER **/
+	public static StringAttribute<UnconfiguredBitemporalOrderStatusFilter> lastUser()
+	{
+		return finder.lastUser();
+	}
+
+	/** maps to UNCONFIGURED_BITEMPORAL_ORDER_STATUS_FILTER.IS_AWESOME **/
+	public static BooleanAttribute<UnconfiguredBitemporalOrderStatusFilter> isAwesome()
+	{
+		return finder.isAwesome();
+	}
+
+	/** maps to UNCONFIGURED_BITEMPORAL_ORDER_STATUS_FILTER.IN_Z **/
+	public static TimestampAttribute<UnconfiguredBitemporalOrderStatusFilter> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to UNCONFIGURED_BITEMPORAL_ORDER_STATUS_FILTER.OUT_Z **/
+	public static TimestampAttribute<UnconfiguredBitemporalOrderStatusFilter> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to UNCONFIGURED_BITEMPORAL_ORDER_STATUS_FILTER.FROM_Z **/
+	public static TimestampAttribute<UnconfiguredBitemporalOrderStatusFilter> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to UNCONFIGURED_BITEMPORAL_ORDER_STATUS_FILTER.THRU_Z **/
+	public static TimestampAttribute<UnconfiguredBitemporalOrderStatusFilter> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<UnconfiguredBitemporalOrderStatusFilter> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<UnconfiguredBitemporalOrderStatusFilter> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(UnconfiguredBitemporalOrderStatusFilter other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(lastUser());
+	}
+
+	public static UnconfiguredBitemporalOrderStatusFilterSingleFinder<UnconfiguredBitemporalOrderStatusFilter, Object, UnconfiguredBitemporalOrderStatusFilter> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			lastUser()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			lastUser()
+			, lastUser()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			isAwesome()
+			, lastUser()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.UnconfiguredBitemporalOrderStatusFilter");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class UnconfiguredBitemporalOrderStatusFilterListAbstract extends DelegatingList<UnconfiguredBitemporalOrderStatusFilter> implements MithraDatedTransactionalList<UnconfiguredBitemporalOrderStatusFilter>
+{
+	public UnconfiguredBitemporalOrderStatusFilterListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter[] elements()
+	{
+		UnconfiguredBitemporalOrderStatusFilter[] result = new UnconfiguredBitemporalOrderStatusFilter[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterList intersection(UnconfiguredBitemporalOrderStatusFilterList another)
+	{
+		return (UnconfiguredBitemporalOrderStatusFilterList)super.intersection(another);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter getUnconfiguredBitemporalOrderStatusFilterAt(int index)
+	{
+		return (UnconfiguredBitemporalOrderStatusFilter)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal();
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterList getNonPersistentCopy()
+	{
+		UnconfiguredBitemporalOrderStatusFilterList result = new UnconfiguredBitemporalOrderStatusFilterList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterList asAdhoc()
+	{
+		return (UnconfiguredBitemporalOrderStatusFilterList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<UnconfiguredBitemporalOrderStatusFilter> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterList merge(MithraTransactionalList<UnconfiguredBitemporalOrderStatusFilter> incoming, TopLevelMergeOptions<UnconfiguredBitemporalOrderStatusFilter> mergeOptions)
+	{
+		return (UnconfiguredBitemporalOrderStatusFilterList) super.merge(incoming, mergeOptions);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterList getDetachedCopy()
+	{
+		UnconfiguredBitemporalOrderStatusFilterList result = new UnconfiguredBitemporalOrderStatusFilterList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(UnconfiguredBitemporalOrderStatusFilterFinder.lastUser(), newValue);
+	}
+
+	public void setIsAwesome(boolean newValue)
+	{
+		zSetBoolean(UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFilterFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFilterFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFilterFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFilterFinder.businessDateTo(), newValue);
+	}
+
+	public void setIsAwesomeNull()
+	{
+		zSetAttributeNull(UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
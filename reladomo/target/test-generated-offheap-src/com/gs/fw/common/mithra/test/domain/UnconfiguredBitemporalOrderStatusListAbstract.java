@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class UnconfiguredBitemporalOrderStatusListAbstract extends DelegatingList<UnconfiguredBitemporalOrderStatus> implements MithraDatedTransactionalList<UnconfiguredBitemporalOrderStatus>
+{
+	public UnconfiguredBitemporalOrderStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public UnconfiguredBitemporalOrderStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public UnconfiguredBitemporalOrderStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public UnconfiguredBitemporalOrderStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public UnconfiguredBitemporalOrderStatus[] elements()
+	{
+		UnconfiguredBitemporalOrderStatus[] result = new UnconfiguredBitemporalOrderStatus[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public UnconfiguredBitemporalOrderStatusList intersection(UnconfiguredBitemporalOrderStatusList another)
+	{
+		return (UnconfiguredBitemporalOrderStatusList)super.intersection(another);
+	}
+
+	public UnconfiguredBitemporalOrderStatus getUnconfiguredBitemporalOrderStatusAt(int index)
+	{
+		return (UnconfiguredBitemporalOrderStatus)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return UnconfiguredBitemporalOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public UnconfiguredBitemporalOrderStatusList getNonPersistentCopy()
+	{
+		UnconfiguredBitemporalOrderStatusList result = new UnconfiguredBitemporalOrderStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public UnconfiguredBitemporalOrderStatusList asAdhoc()
+	{
+		return (UnconfiguredBitemporalOrderStatusList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<UnconfiguredBitemporalOrderStatus> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public UnconfiguredBitemporalOrderStatusList merge(MithraTransactionalList<UnconfiguredBitemporalOrderStatus> incoming, TopLevelMergeOptions<UnconfiguredBitemporalOrderStatus> mergeOptions)
+	{
+		return (UnconfiguredBitemporalOrderStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public UnconfiguredBitemporalOrderStatusList getDetachedCopy()
+	{
+		UnconfiguredBitemporalOrderStatusList result = new UnconfiguredBitemporalOrderStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(UnconfiguredBitemporalOrderStatusFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(UnconfiguredBitemporalOrderStatusFinder.status(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(UnconfiguredBitemporalOrderStatusFinder.lastUser(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFinder.businessDateTo(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(UnconfiguredBitemporalOrderStatusFinder.status());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
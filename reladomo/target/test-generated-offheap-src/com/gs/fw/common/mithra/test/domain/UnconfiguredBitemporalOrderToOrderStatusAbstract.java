@@ -0,0 +1,558 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class UnconfiguredBitemporalOrderToOrderStatusAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate()
+	,
+		UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate()
+	, UnconfiguredBitemporalOrderToOrderStatusFinder.zGetDoubleAttributes(),UnconfiguredBitemporalOrderToOrderStatusFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(UnconfiguredBitemporalOrderToOrderStatus.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public UnconfiguredBitemporalOrderToOrderStatusAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, UnconfiguredBitemporalOrderToOrderStatusFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, UnconfiguredBitemporalOrderToOrderStatusFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusData zSynchronizedGetData()
+	{
+		return (UnconfiguredBitemporalOrderToOrderStatusData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		UnconfiguredBitemporalOrderToOrderStatus original = (UnconfiguredBitemporalOrderToOrderStatus) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (UnconfiguredBitemporalOrderToOrderStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (UnconfiguredBitemporalOrderToOrderStatus) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		UnconfiguredBitemporalOrderToOrderStatusAbstract result = (UnconfiguredBitemporalOrderToOrderStatusAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (UnconfiguredBitemporalOrderToOrderStatus ) result;
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus zFindOriginal()
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData data = (UnconfiguredBitemporalOrderToOrderStatusData) this.currentData;
+		Operation op;
+		op = UnconfiguredBitemporalOrderToOrderStatusFinder.orderId().eq(data.getOrderId());
+		op = op.and(UnconfiguredBitemporalOrderToOrderStatusFinder.statusId().eq(data.getStatusId()));
+		op = op.and(UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate()));
+		return UnconfiguredBitemporalOrderToOrderStatusFinder.findOne(op);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		UnconfiguredBitemporalOrderToOrderStatusAbstract result = (UnconfiguredBitemporalOrderToOrderStatusAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (UnconfiguredBitemporalOrderToOrderStatus ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (UnconfiguredBitemporalOrderToOrderStatus) behavior.updateOriginalOrInsert(this);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (UnconfiguredBitemporalOrderToOrderStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			UnconfiguredBitemporalOrderToOrderStatusData data = (UnconfiguredBitemporalOrderToOrderStatusData) this.currentData;
+			Operation op = UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate().eq(this.businessDate);
+			op = op.and(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate().eq(this.processingDate));
+			op = op.and(UnconfiguredBitemporalOrderToOrderStatusFinder.orderId().eq(data.getOrderId()));
+			op = op.and(UnconfiguredBitemporalOrderToOrderStatusFinder.statusId().eq(data.getStatusId()));
+			return UnconfiguredBitemporalOrderToOrderStatusFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData data = (UnconfiguredBitemporalOrderToOrderStatusData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData data = (UnconfiguredBitemporalOrderToOrderStatusData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStatusIdNull()
+	{
+		return this.zSynchronizedGetData().isStatusIdNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderToOrderStatusFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderToOrderStatusFinder.businessDateTo(), newValue, false );
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(UnconfiguredBitemporalOrderToOrderStatusFinder.orderId(), newValue, true ,false);
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(UnconfiguredBitemporalOrderToOrderStatusFinder.orderId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getStatusId()
+	{
+		return this.zSynchronizedGetData().getStatusId();
+	}
+
+	public void setStatusId(int newValue)
+	{
+		zSetInteger(UnconfiguredBitemporalOrderToOrderStatusFinder.statusId(), newValue, true ,false);
+	}
+
+	public void setStatusIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(UnconfiguredBitemporalOrderToOrderStatusFinder.statusId(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData data2 = (UnconfiguredBitemporalOrderToOrderStatusData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData _newData = (UnconfiguredBitemporalOrderToOrderStatusData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		UnconfiguredBitemporalOrderToOrderStatusData _newData = (UnconfiguredBitemporalOrderToOrderStatusData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		UnconfiguredBitemporalOrderToOrderStatusData _newData = (UnconfiguredBitemporalOrderToOrderStatusData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return UnconfiguredBitemporalOrderToOrderStatusFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new UnconfiguredBitemporalOrderToOrderStatusData.UnconfiguredBitemporalOrderToOrderStatusDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData data = (UnconfiguredBitemporalOrderToOrderStatusData) UnconfiguredBitemporalOrderToOrderStatusFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("UnconfiguredBitemporalOrderToOrderStatus has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromUnconfiguredBitemporalOrderToOrderStatusData( UnconfiguredBitemporalOrderToOrderStatusData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromUnconfiguredBitemporalOrderToOrderStatusData( UnconfiguredBitemporalOrderToOrderStatusData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) UnconfiguredBitemporalOrderToOrderStatusFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return UnconfiguredBitemporalOrderToOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(UnconfiguredBitemporalOrderToOrderStatusAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		UnconfiguredBitemporalOrderToOrderStatusAbstract from = (UnconfiguredBitemporalOrderToOrderStatusAbstract) f;
+		UnconfiguredBitemporalOrderToOrderStatusData newData = from.zSynchronizedGetData();
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData _newData = (UnconfiguredBitemporalOrderToOrderStatusData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData _newData = (UnconfiguredBitemporalOrderToOrderStatusData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(UnconfiguredBitemporalOrderToOrderStatusAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		UnconfiguredBitemporalOrderToOrderStatusAbstract from = (UnconfiguredBitemporalOrderToOrderStatusAbstract)f;
+		UnconfiguredBitemporalOrderToOrderStatusData newData = from.zSynchronizedGetData();
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData newData = (UnconfiguredBitemporalOrderToOrderStatusData) d;
+		UnconfiguredBitemporalOrderToOrderStatusData data = (UnconfiguredBitemporalOrderToOrderStatusData) nd;
+		if (UnconfiguredBitemporalOrderToOrderStatusFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, UnconfiguredBitemporalOrderToOrderStatusFinder.orderId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, UnconfiguredBitemporalOrderToOrderStatusFinder.statusId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, UnconfiguredBitemporalOrderToOrderStatusFinder.orderId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, UnconfiguredBitemporalOrderToOrderStatusFinder.statusId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData data = ((UnconfiguredBitemporalOrderToOrderStatusData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData data = ((UnconfiguredBitemporalOrderToOrderStatusData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData data = ((UnconfiguredBitemporalOrderToOrderStatusData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), UnconfiguredBitemporalOrderToOrderStatusFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), UnconfiguredBitemporalOrderToOrderStatusFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		UnconfiguredBitemporalOrderToOrderStatusData localData = (UnconfiguredBitemporalOrderToOrderStatusData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,165 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class UnconfiguredBitemporalOrderToOrderStatusListAbstract extends DelegatingList<UnconfiguredBitemporalOrderToOrderStatus> implements MithraDatedTransactionalList<UnconfiguredBitemporalOrderToOrderStatus>
+{
+	public UnconfiguredBitemporalOrderToOrderStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus[] elements()
+	{
+		UnconfiguredBitemporalOrderToOrderStatus[] result = new UnconfiguredBitemporalOrderToOrderStatus[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusList intersection(UnconfiguredBitemporalOrderToOrderStatusList another)
+	{
+		return (UnconfiguredBitemporalOrderToOrderStatusList)super.intersection(another);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatus getUnconfiguredBitemporalOrderToOrderStatusAt(int index)
+	{
+		return (UnconfiguredBitemporalOrderToOrderStatus)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return UnconfiguredBitemporalOrderToOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusList getNonPersistentCopy()
+	{
+		UnconfiguredBitemporalOrderToOrderStatusList result = new UnconfiguredBitemporalOrderToOrderStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusList asAdhoc()
+	{
+		return (UnconfiguredBitemporalOrderToOrderStatusList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<UnconfiguredBitemporalOrderToOrderStatus> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusList merge(MithraTransactionalList<UnconfiguredBitemporalOrderToOrderStatus> incoming, TopLevelMergeOptions<UnconfiguredBitemporalOrderToOrderStatus> mergeOptions)
+	{
+		return (UnconfiguredBitemporalOrderToOrderStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public UnconfiguredBitemporalOrderToOrderStatusList getDetachedCopy()
+	{
+		UnconfiguredBitemporalOrderToOrderStatusList result = new UnconfiguredBitemporalOrderToOrderStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(UnconfiguredBitemporalOrderToOrderStatusFinder.orderId(), newValue);
+	}
+
+	public void setStatusId(int newValue)
+	{
+		zSetInteger(UnconfiguredBitemporalOrderToOrderStatusFinder.statusId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDateTo(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderToOrderStatusFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderToOrderStatusFinder.businessDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
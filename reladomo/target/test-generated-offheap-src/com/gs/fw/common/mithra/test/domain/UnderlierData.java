@@ -0,0 +1,486 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class UnderlierData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private String accountId;
+	private int contractId;
+	private String contractType;
+	private String currency;
+	private String description;
+	private int productId;
+	private long underlierId;
+	public boolean isAccountIdNull()
+	{
+		return this.getAccountId() == null;
+	}
+
+	public boolean isContractIdNull()
+	{
+		return false;
+	}
+
+	public boolean isContractTypeNull()
+	{
+		return this.getContractType() == null;
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.getCurrency() == null;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUnderlierIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountId);
+		out.writeInt(this.contractId);
+		out.writeObject(this.contractType);
+		out.writeObject(this.currency);
+		out.writeObject(this.description);
+		out.writeInt(this.productId);
+		out.writeLong(this.underlierId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public int zGetAccountIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountId);
+	}
+
+	public void setAccountId(String value)
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache(value, UnderlierFinder.isFullCache());
+	}
+
+	public void setAccountIdNull()
+	{
+		this.setAccountId(null);
+	}
+
+	public int getContractId()
+	{
+		return this.contractId;
+	}
+
+	public void setContractId(int value)
+	{
+		this.contractId = value;
+	}
+
+	public void setContractIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getContractType()
+	{
+		return this.contractType;
+	}
+
+	public int zGetContractTypeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(contractType);
+	}
+
+	public void setContractType(String value)
+	{
+		this.contractType = StringPool.getInstance().getOrAddToCache(value, UnderlierFinder.isFullCache());
+	}
+
+	public void setContractTypeNull()
+	{
+		this.setContractType(null);
+	}
+
+	public String getCurrency()
+	{
+		return this.currency;
+	}
+
+	public int zGetCurrencyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(currency);
+	}
+
+	public void setCurrency(String value)
+	{
+		this.currency = StringPool.getInstance().getOrAddToCache(value, UnderlierFinder.isFullCache());
+	}
+
+	public void setCurrencyNull()
+	{
+		this.setCurrency(null);
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, UnderlierFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+	}
+
+	public void setProductIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public long getUnderlierId()
+	{
+		return this.underlierId;
+	}
+
+	public void setUnderlierId(long value)
+	{
+		this.underlierId = value;
+	}
+
+	public void setUnderlierIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(UnderlierData copy, boolean withRelationships)
+	{
+		copy.accountId = this.accountId;
+		copy.contractId = this.contractId;
+		copy.contractType = this.contractType;
+		copy.currency = this.currency;
+		copy.description = this.description;
+		copy.productId = this.productId;
+		copy.underlierId = this.underlierId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+		this.contractId = in.readInt();
+		this.contractType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+		this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+		this.productId = in.readInt();
+		this.underlierId = in.readLong();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final UnderlierData otherData = (UnderlierData) other;
+		if (!isAccountIdNull() ? !getAccountId().equals(otherData.getAccountId()) : !otherData.isAccountIdNull())
+		{
+			return false;
+		}
+
+		if (getContractId() != otherData.getContractId())
+		{
+			return false;
+		}
+
+		if (!isContractTypeNull() ? !getContractType().equals(otherData.getContractType()) : !otherData.isContractTypeNull())
+		{
+			return false;
+		}
+
+		if (getProductId() != otherData.getProductId())
+		{
+			return false;
+		}
+
+		if (getUnderlierId() != otherData.getUnderlierId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.accountId);
+		out.writeInt(this.contractId);
+		out.writeObject(this.contractType);
+		out.writeInt(this.productId);
+		out.writeLong(this.underlierId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+		this.contractId = in.readInt();
+		this.contractType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+		this.productId = in.readInt();
+		this.underlierId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getContract()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setContract(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final UnderlierData underlierData = (UnderlierData) newData;
+		this.setCurrency(underlierData.getCurrency());
+		this.setDescription(underlierData.getDescription());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final UnderlierData other = (UnderlierData) newData;
+		if (!isCurrencyNull() ? !getCurrency().equals(other.getCurrency()) : !other.isCurrencyNull())
+		{
+			return true;
+		}
+
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		UnderlierData copy = new UnderlierData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		UnderlierData copy = new UnderlierData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+		result += "contractId: "+(""+getContractId())+ " / ";
+		result += "contractType: "+"'"+getContractType()+"'"+ " / ";
+		result += "productId: "+(""+getProductId())+ " / ";
+		result += "underlierId: "+(""+getUnderlierId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.UnderlierData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return UnderlierFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return UnderlierFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.UnderlierData";
+	}
+}
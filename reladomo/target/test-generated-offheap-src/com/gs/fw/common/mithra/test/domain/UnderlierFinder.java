@@ -0,0 +1,811 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class UnderlierFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Underlier";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Underlier";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Underlier");
+	private static final UnderlierSingleFinder<Underlier, Object, Underlier> finder = new UnderlierSingleFinder<Underlier, Object, Underlier>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(UnderlierFinder.UnderlierRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("contractType");
+		finderMethodMap.addNormalAttributeName("contractId");
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("underlierId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("currency");
+		finderMethodMap.addRelationshipName("contract");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Underlier findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Underlier findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static UnderlierList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (UnderlierList) finder.findMany(operation);
+	}
+
+	public static UnderlierList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (UnderlierList) finder.findManyBypassCache(operation);
+	}
+
+	private static Underlier findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Underlier) FinderUtils.findOne(found);
+	}
+
+	public static Underlier findByPrimaryKey(String contractType, int contractId, String accountId, int productId, long underlierId)
+	{
+		return finder.findByPrimaryKey(contractType, contractId, accountId, productId, underlierId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Underlier _castedTargetData = (Underlier) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getContractType()) && _bean.getI1AsInteger() == _castedTargetData.getContractId() && _bean.getO2AsString().equals(_castedTargetData.getAccountId()) && _bean.getI2AsInteger() == _castedTargetData.getProductId() && _bean.getL1AsLong() == _castedTargetData.getUnderlierId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getL1AsLong()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getL1AsLong()));
+		}
+	}
+
+	public static Underlier zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Underlier) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class UnderlierRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Underlier, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> contractType;
+		private IntegerAttribute<ParentOwnerType> contractId;
+		private StringAttribute<ParentOwnerType> accountId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private LongAttribute<ParentOwnerType> underlierId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> currency;
+		private UnderlierContractFinderSubclass<ParentOwnerType> contract;
+		public UnderlierRelatedFinder()
+		{
+			super();
+		}
+
+		public UnderlierRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.UnderlierFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return UnderlierFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return UnderlierFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return UnderlierFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.contractType();
+			attributes[1] = this.contractId();
+			attributes[2] = this.accountId();
+			attributes[3] = this.productId();
+			attributes[4] = this.underlierId();
+			attributes[5] = this.description();
+			attributes[6] = this.currency();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.contract());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Underlier findOne(com.gs.fw.finder.Operation operation)
+		{
+			return UnderlierFinder.findOne(operation, false);
+		}
+
+		public Underlier findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return UnderlierFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Underlier> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new UnderlierList((Operation) operation);
+		}
+
+		public MithraList<? extends Underlier> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			UnderlierList result = (UnderlierList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Underlier> constructEmptyList()
+		{
+			return new UnderlierList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 147127290;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> contractType()
+		{
+			StringAttribute<ParentOwnerType> result = this.contractType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CONTRACT_TYPE","","contractType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(UnderlierFinder.contractType(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("contract");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Contract", "underliers");
+				this.contractType = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> contractId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.contractId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CONTRACT_ID","","contractId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(UnderlierFinder.contractId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("contract");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Contract", "underliers");
+				this.contractId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCOUNT_ID","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(UnderlierFinder.accountId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("contract");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Contract", "underliers");
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(UnderlierFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("contract");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Contract", "underliers");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> underlierId()
+		{
+			LongAttribute<ParentOwnerType> result = this.underlierId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("UNDERLIER_ID","","underlierId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(UnderlierFinder.underlierId(), this.mapper, this.zGetValueSelector());
+				this.underlierId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,32,true, false) :
+					new MappedStringAttribute(UnderlierFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> currency()
+		{
+			StringAttribute<ParentOwnerType> result = this.currency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CURRENCY","","currency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,3,true, false) :
+					new MappedStringAttribute(UnderlierFinder.currency(), this.mapper, this.zGetValueSelector());
+				this.currency = result;
+			}
+
+			return result;
+		}
+
+		public ContractFinder.ContractSingleFinderForRelatedClasses<ParentOwnerType, Contract, Underlier> contract()
+		{
+			UnderlierContractFinderSubclass<ParentOwnerType> result = this.contract;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ContractFinder.zGetContractUnderliersMapper());
+				newMapper.setToMany(false);
+				result = new UnderlierContractFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.contract = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return UnderlierFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return UnderlierFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class UnderlierCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends UnderlierRelatedFinder<ParentOwnerType, ReturnType, UnderlierList, OwnerType>
+	{
+		public UnderlierCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class UnderlierCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends UnderlierCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public UnderlierCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class UnderlierSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends UnderlierRelatedFinder<ParentOwnerType, ReturnType, UnderlierList, OwnerType>
+	implements ToOneFinder
+	{
+		public UnderlierSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public UnderlierSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Underlier other)
+		{
+			return this.contractType().eq(other.getContractType())
+			.and(this.contractId().eq(other.getContractId()))
+			.and(this.accountId().eq(other.getAccountId()))
+			.and(this.productId().eq(other.getProductId()))
+			.and(this.underlierId().eq(other.getUnderlierId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Underlier findByPrimaryKey(String contractType, int contractId, String accountId, int productId, long underlierId)
+		{
+			Underlier _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (contractType != null && accountId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(contractType);
+				_bean.setI1AsInteger(contractId);
+				_bean.setO2(accountId);
+				_bean.setI2AsInteger(productId);
+				_bean.setL1AsLong(underlierId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Underlier) _related;
+			if (_related == null)
+			{
+				_op = this.contractType().eq(contractType).and(this.contractId().eq(contractId)).and(this.accountId().eq(accountId)).and(this.productId().eq(productId)).and(this.underlierId().eq(underlierId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class UnderlierSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends UnderlierSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public UnderlierSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to UNDERLIER.CONTRACT_TYPE **/
+	public static StringAttribute<Underlier> contractType()
+	{
+		return finder.contractType();
+	}
+
+	/** maps to UNDERLIER.CONTRACT_ID **/
+	public static IntegerAttribute<Underlier> contractId()
+	{
+		return finder.contractId();
+	}
+
+	/** maps to UNDERLIER.ACCOUNT_ID **/
+	public static StringAttribute<Underlier> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to UNDERLIER.PRODUCT_ID **/
+	public static IntegerAttribute<Underlier> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to UNDERLIER.UNDERLIER_ID **/
+	public static LongAttribute<Underlier> underlierId()
+	{
+		return finder.underlierId();
+	}
+
+	/** maps to UNDERLIER.DESCRIPTION **/
+	public static StringAttribute<Underlier> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to UNDERLIER.CURRENCY **/
+	public static StringAttribute<Underlier> currency()
+	{
+		return finder.currency();
+	}
+
+	public static ContractFinder.ContractSingleFinderForRelatedClasses<Underlier, Contract, Underlier> contract()
+	{
+		return finder.contract();
+	}
+
+	public static class UnderlierContractFinderSubclass<ParentOwnerType> extends ContractFinder.ContractSingleFinderForRelatedClasses<ParentOwnerType, Contract, Underlier>
+	{
+		public UnderlierContractFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "contract";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ContractFinder.contractType(),
+				ContractFinder.contractId(),
+				ContractFinder.accountId(),
+				ContractFinder.productId()).withExtractors(
+				UnderlierFinder.contractType(),
+				UnderlierFinder.contractId(),
+				UnderlierFinder.accountId(),
+				UnderlierFinder.productId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UnderlierContractFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Contract plainValueOf(Underlier _obj)
+		{
+			return _obj.getContract();
+		}
+
+		protected ContractList plainListValueOf(Object _obj)
+		{
+			return ((UnderlierList)_obj).getContracts();
+		}
+	}
+
+	public static Operation eq(Underlier other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(contractType());
+	}
+
+	public static UnderlierSingleFinder<Underlier, Object, Underlier> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			contractType()
+			, contractId()
+			, accountId()
+			, productId()
+			, underlierId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			contractType()
+			, contractType()
+			, contractId()
+			, accountId()
+			, productId()
+			, underlierId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			accountId()
+			, contractId()
+			, contractType()
+			, productId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ContractFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ContractFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Underlier");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
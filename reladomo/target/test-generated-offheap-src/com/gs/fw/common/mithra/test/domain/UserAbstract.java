@@ -0,0 +1,1148 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class UserAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy forprofile = new ProfileRhs();
+	private static final RelationshipHashStrategy fordefaultGroup = new DefaultGroupRhs();
+	private static final RelationshipHashStrategy foruserGroups2 = new UserGroups2Rhs();
+	private static final class ProfileRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			User _castedSrcObject = (User) _srcObject;
+			Profile _castedTargetData = (Profile) _targetData;
+			if (_castedSrcObject.getProfileId() == _castedTargetData.getId() && _castedSrcObject.getSourceId() == _castedTargetData.getSourceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			User _castedSrcObject = (User) _srcObject;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getProfileId()),HashUtil.hash(_castedSrcObject.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class DefaultGroupRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			User _castedSrcObject = (User) _srcObject;
+			Group _castedTargetData = (Group) _targetData;
+			if (!_castedSrcObject.isDefaultGroupIdNull() && _castedSrcObject.getDefaultGroupId() == _castedTargetData.getId() && _castedSrcObject.getSourceId() == _castedTargetData.getSourceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			User _castedSrcObject = (User) _srcObject;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getDefaultGroupId(), _castedSrcObject.isDefaultGroupIdNull()),HashUtil.hash(_castedSrcObject.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class UserGroups2Rhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			User _castedSrcObject = (User) _srcObject;
+			UserGroup _castedTargetData = (UserGroup) _targetData;
+			if (_castedSrcObject.getId() == _castedTargetData.getOwnerId() && _castedSrcObject.getSourceId() == _castedTargetData.getSourceId() && ((_castedTargetData.getDependentId() == 2)))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			User _castedSrcObject = (User) _srcObject;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getId()),HashUtil.hash(2)),HashUtil.hash(_castedSrcObject.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private byte isNullBits0 = 0;
+	private boolean active;
+	private int defaultGroupId;
+	private int id;
+	private Timestamp lastUpdate;
+	private String name;
+	private int profileId;
+	private int sourceId;
+	private String userId;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isLastUpdateNull()
+	{
+		return this.getLastUpdate() == null;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isProfileIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.getUserId() == null;
+	}
+
+	public boolean isActiveNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isDefaultGroupIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.active);
+		out.writeInt(this.defaultGroupId);
+		out.writeInt(this.id);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastUpdate);
+		out.writeObject(this.name);
+		out.writeInt(this.profileId);
+		out.writeInt(this.sourceId);
+		out.writeObject(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		UserData data = new UserData();
+		data.setActive(active);
+		data.setDefaultGroupId(defaultGroupId);
+		data.setId(id);
+		data.setLastUpdate(lastUpdate);
+		data.setName(name);
+		data.setProfileId(profileId);
+		data.setSourceId(sourceId);
+		data.setUserId(userId);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public User getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		UserAbstract copy = (UserAbstract) UserFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (User)copy;
+	}
+
+	protected void zSetFromUserData(UserData data)
+	{
+		this.setFromUserData(data);
+	}
+
+	public void setFromUserData(UserData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		active = data.isActive();
+		defaultGroupId = data.getDefaultGroupId();
+		id = data.getId();
+		lastUpdate = data.getLastUpdate();
+		name = data.getName();
+		profileId = data.getProfileId();
+		sourceId = data.getSourceId();
+		userId = data.getUserId();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return UserFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromUserData((UserData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public boolean isActive()
+	{
+		return this.active;
+	}
+
+	public void setActive(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.active = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getDefaultGroupId()
+	{
+		if (isDefaultGroupIdNull()) throwNullPrimitiveException("defaultGroupId");
+		return this.defaultGroupId;
+	}
+
+	public void setDefaultGroupId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.defaultGroupId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public Timestamp getLastUpdate()
+	{
+		return this.lastUpdate;
+	}
+
+	public void setLastUpdate(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.lastUpdate = TimestampPool.getInstance().getOrAddToCache(value, UserFinder.isFullCache());
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, UserFinder.isFullCache());
+	}
+
+	public int getProfileId()
+	{
+		return this.profileId;
+	}
+
+	public void setProfileId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.profileId = value;
+	}
+
+	public int getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public void setSourceId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.sourceId = value;
+	}
+
+	public String getUserId()
+	{
+		return this.userId;
+	}
+
+	public void setUserId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.userId = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setActiveNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setDefaultGroupIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and Group.id = UserGroup.dependentId</pre>
+	* Order By: <code>name DESC</code>.
+	* @see Group#getUsers() reverse relationship Group.getUsers()
+	* @return groups
+	*/
+	public GroupList getGroups()
+	{
+		GroupList _result = null;
+		if (_relationships != null)
+		{
+			_result = (GroupList)(_relationships[3]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new GroupList(zGetGroupsOperation());
+					_result.zSetForRelationship();
+				}
+			}
+
+			_result.setOrderBy(GroupFinder.name().descendingOrderBy());
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and Group.id = UserGroup.dependentId and UserGroup.dependentId = 2</pre>
+	* Order By: <code>name DESC</code>.
+	* @return groups2
+	*/
+	public GroupList getGroups2()
+	{
+		GroupList _result = null;
+		if (_relationships != null)
+		{
+			_result = (GroupList)(_relationships[4]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new GroupList(zGetGroups2Operation());
+					_result.zSetForRelationship();
+				}
+			}
+
+			_result.setOrderBy(GroupFinder.name().descendingOrderBy());
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id
+	and UserGroup.sourceId = 1
+	and Group.id = UserGroup.dependentId
+	and Group.sourceId = 2</pre>
+	* @see Group#getSourceUsers() reverse relationship Group.getSourceUsers()
+	* @return source groups
+	*/
+	public GroupList getSourceGroups()
+	{
+		GroupList _result = null;
+		if (_relationships != null)
+		{
+			_result = (GroupList)(_relationships[8]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new GroupList(zGetSourceGroupsOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Profile.id = this.profileId</pre>
+	* @see Profile#getUsers() reverse relationship Profile.getUsers()
+	* @return The profile
+	*/
+	public Profile getProfile()
+	{
+		Profile _result = null;
+		if (_relationships != null)
+		{
+			_result = (Profile)(_relationships[7]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = ProfileFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forprofile, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Profile) _related;
+				if (_related == null)
+				{
+					_result = ProfileFinder.zFindOneForRelationship(zGetProfileOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(Group.id = this.defaultGroupId)</pre>
+	* @see Group#getDefaultUsers() reverse relationship Group.getDefaultUsers()
+	* @return The default group
+	*/
+	public Group getDefaultGroup()
+	{
+		Group _result = null;
+		if (_relationships != null)
+		{
+			_result = (Group)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isDefaultGroupIdNull())
+			{
+				_portal = GroupFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fordefaultGroup, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Group) _related;
+				if (_related == null)
+				{
+					_result = GroupFinder.zFindOneForRelationship(zGetDefaultGroupOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.defaultGroupId = Group.id and (Group.type = 7)</pre>
+	* @see Group#getGroup7activeUsers() reverse relationship Group.getGroup7activeUsers()
+	* @return The group7
+	*/
+	public Group getGroup7()
+	{
+		Group _result = null;
+		if (_relationships != null)
+		{
+			_result = (Group)(_relationships[2]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isDefaultGroupIdNull())
+			{
+				{
+					_result = GroupFinder.zFindOneForRelationship(zGetGroup7Operation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.id = Group.managerId) and (this.defaultGroupId = Group.id)</pre>
+	* @return The managed default group
+	*/
+	public Group getManagedDefaultGroup()
+	{
+		Group _result = null;
+		if (_relationships != null)
+		{
+			_result = (Group)(_relationships[6]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isDefaultGroupIdNull())
+			{
+				{
+					_result = GroupFinder.zFindOneForRelationship(zGetManagedDefaultGroupOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.defaultGroupId = Group.id and (User.id = Group.managerId)</pre>
+	* @return The default group manager
+	*/
+	public User getDefaultGroupManager()
+	{
+		User _result = null;
+		if (_relationships != null)
+		{
+			_result = (User)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isDefaultGroupIdNull())
+			{
+				{
+					_result = UserFinder.zFindOneForRelationship(zGetDefaultGroupManagerOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and Group.id = UserGroup.dependentId and User.id = Group.managerId</pre>
+	* @return groups with managers
+	*/
+	public GroupList getGroupsWithManagers()
+	{
+		GroupList _result = null;
+		if (_relationships != null)
+		{
+			_result = (GroupList)(_relationships[5]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new GroupList(zGetGroupsWithManagersOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and UserGroup.dependentId = 2</pre>
+	* @return The user groups2
+	*/
+	public UserGroup getUserGroups2()
+	{
+		UserGroup _result = null;
+		if (_relationships != null)
+		{
+			_result = (UserGroup)(_relationships[10]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = UserGroupFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, foruserGroups2, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (UserGroup) _related;
+				if (_related == null)
+				{
+					_result = UserGroupFinder.zFindOneForRelationship(zGetUserGroups2Operation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and this.active = true</pre>
+	* @return The user groups for active
+	*/
+	public UserGroup getUserGroupsForActive()
+	{
+		UserGroup _result = null;
+		if (_relationships != null)
+		{
+			_result = (UserGroup)(_relationships[11]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isActiveNull() && this.isActive()==true)
+			{
+				{
+					_result = UserGroupFinder.zFindOneForRelationship(zGetUserGroupsForActiveOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id</pre>
+	* @return The user groups
+	*/
+	public UserGroup getUserGroups()
+	{
+		UserGroup _result = null;
+		if (_relationships != null)
+		{
+			_result = (UserGroup)(_relationships[9]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = UserGroupFinder.zFindOneForRelationship(zGetUserGroupsOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setGroups(GroupList groups)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[3] = groups;
+	}
+
+	public void setGroups2(GroupList groups2)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[4] = groups2;
+	}
+
+	public void setSourceGroups(GroupList sourceGroups)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[8] = sourceGroups;
+	}
+
+	public void setProfile(Profile profile)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[7] = profile;
+		if (profile == null)
+		{
+			this.setProfileId(0);
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setProfileId(profile.getId());
+			this.setSourceId(profile.getSourceId());
+		}
+	}
+
+	public void setDefaultGroup(Group defaultGroup)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[0] = defaultGroup;
+		if (defaultGroup == null)
+		{
+			this.setDefaultGroupIdNull();
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setDefaultGroupId(defaultGroup.getId());
+			this.setSourceId(defaultGroup.getSourceId());
+		}
+	}
+
+	public void setGroup7(Group group7)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[2] = group7;
+		if (group7 == null)
+		{
+			this.setDefaultGroupIdNull();
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setDefaultGroupId(group7.getId());
+			this.setSourceId(group7.getSourceId());
+		}
+	}
+
+	public void setManagedDefaultGroup(Group managedDefaultGroup)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[6] = managedDefaultGroup;
+		if (managedDefaultGroup == null)
+		{
+			this.setId(0);
+			this.setDefaultGroupIdNull();
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setId(managedDefaultGroup.getManagerId());
+			this.setDefaultGroupId(managedDefaultGroup.getId());
+			this.setSourceId(managedDefaultGroup.getSourceId());
+		}
+	}
+
+	public void setDefaultGroupManager(User defaultGroupManager)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[1] = defaultGroupManager;
+	}
+
+	public void setGroupsWithManagers(GroupList groupsWithManagers)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[5] = groupsWithManagers;
+	}
+
+	public void setUserGroups2(UserGroup userGroups2)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[10] = userGroups2;
+		if (userGroups2 == null)
+		{
+			this.setId(0);
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setId(userGroups2.getOwnerId());
+			this.setSourceId(userGroups2.getSourceId());
+		}
+	}
+
+	public void setUserGroupsForActive(UserGroup userGroupsForActive)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[11] = userGroupsForActive;
+		if (userGroupsForActive == null)
+		{
+			this.setId(0);
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setId(userGroupsForActive.getOwnerId());
+			this.setSourceId(userGroupsForActive.getSourceId());
+		}
+	}
+
+	public void setUserGroups(UserGroup userGroups)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[9] = userGroups;
+		if (userGroups == null)
+		{
+			this.setId(0);
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setId(userGroups.getOwnerId());
+			this.setSourceId(userGroups.getSourceId());
+		}
+	}
+
+	public Operation zGetGroupsOperation()
+	{
+		UserAbstract _data = this;
+		return new MappedOperation(UserFinder.zGetGroupsMapperFragment(), UserGroupFinder.ownerId().eq(_data.getId()).and(UserGroupFinder.sourceId().eq(_data.getSourceId())));
+	}
+
+	public Operation zGetGroups2Operation()
+	{
+		UserAbstract _data = this;
+		return new MappedOperation(UserFinder.zGetGroups2MapperFragment(), UserGroupFinder.ownerId().eq(_data.getId()).and(UserGroupFinder.sourceId().eq(_data.getSourceId())).and(UserGroupFinder.zGetConstantOperation(0)));
+	}
+
+	public Operation zGetSourceGroupsOperation()
+	{
+		UserAbstract _data = this;
+		return new MappedOperation(UserFinder.zGetSourceGroupsMapperFragment(), UserGroupFinder.ownerId().eq(_data.getId()).and(UserGroupFinder.zGetConstantOperation(1)));
+	}
+
+	public Operation zGetProfileOperation()
+	{
+		UserAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(UserFinder.profile().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetDefaultGroupOperation()
+	{
+		UserAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(UserFinder.defaultGroup().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetGroup7Operation()
+	{
+		UserAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(UserFinder.group7().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetManagedDefaultGroupOperation()
+	{
+		UserAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(UserFinder.managedDefaultGroup().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetDefaultGroupManagerOperation()
+	{
+		UserAbstract _data = this;
+		return new MappedOperation(UserFinder.zGetDefaultGroupManagerMapperFragment(), GroupFinder.id().eq(_data.getDefaultGroupId()).and(GroupFinder.sourceId().eq(_data.getSourceId())));
+	}
+
+	public Operation zGetGroupsWithManagersOperation()
+	{
+		UserAbstract _data = this;
+		return new MappedOperation(UserFinder.zGetGroupsWithManagersMapperFragment(), UserGroupFinder.ownerId().eq(_data.getId()).and(UserGroupFinder.sourceId().eq(_data.getSourceId())));
+	}
+
+	public Operation zGetUserGroups2Operation()
+	{
+		UserAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(UserFinder.userGroups2().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetUserGroupsForActiveOperation()
+	{
+		UserAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(UserFinder.userGroupsForActive().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetUserGroupsOperation()
+	{
+		UserAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(UserFinder.userGroups().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final UserData userData = (UserData) newData;
+		if (isNullBits0 != userData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (active != userData.isActive())
+		{
+			return true;
+		}
+
+		if (defaultGroupId != userData.getDefaultGroupId())
+		{
+			return true;
+		}
+
+		if (!isLastUpdateNull() ? !getLastUpdate().equals(userData.getLastUpdate()) : !userData.isLastUpdateNull())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(userData.getName()) : !userData.isNameNull())
+		{
+			return true;
+		}
+
+		if (profileId != userData.getProfileId())
+		{
+			return true;
+		}
+
+		if (sourceId != userData.getSourceId())
+		{
+			return true;
+		}
+
+		if (!isUserIdNull() ? !getUserId().equals(userData.getUserId()) : !userData.isUserIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		result += "sourceId: "+(""+getSourceId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.active = in.readBoolean();
+			this.defaultGroupId = in.readInt();
+			this.id = in.readInt();
+			this.lastUpdate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), UserFinder.isFullCache(), UserFinder.isOffHeap());
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UserFinder.isFullCache());
+			this.profileId = in.readInt();
+			this.sourceId = in.readInt();
+			this.userId = (String)in.readObject();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = UserFinder.id().eq(this.getId());
+			return UserFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
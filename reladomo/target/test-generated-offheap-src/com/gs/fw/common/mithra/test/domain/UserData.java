@@ -0,0 +1,751 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class UserData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private boolean active;
+	private int defaultGroupId;
+	private int id;
+	private Timestamp lastUpdate;
+	private String name;
+	private int profileId;
+	private int sourceId;
+	private String userId;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isLastUpdateNull()
+	{
+		return this.getLastUpdate() == null;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isProfileIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.getUserId() == null;
+	}
+
+	public boolean isActiveNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isDefaultGroupIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.active);
+		out.writeInt(this.defaultGroupId);
+		out.writeInt(this.id);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastUpdate);
+		out.writeObject(this.name);
+		out.writeInt(this.profileId);
+		out.writeInt(this.sourceId);
+		out.writeObject(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public boolean isActive()
+	{
+		return this.active;
+	}
+
+	public void setActive(boolean value)
+	{
+		this.active = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getDefaultGroupId()
+	{
+		return this.defaultGroupId;
+	}
+
+	public void setDefaultGroupId(int value)
+	{
+		this.defaultGroupId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Timestamp getLastUpdate()
+	{
+		return this.lastUpdate;
+	}
+
+	public long zGetLastUpdateAsLong()
+	{
+		if (lastUpdate == null) return TimestampPool.OFF_HEAP_NULL;
+		return lastUpdate.getTime();
+	}
+
+	public void setLastUpdate(Timestamp value)
+	{
+		this.lastUpdate = TimestampPool.getInstance().getOrAddToCache(value, UserFinder.isFullCache(), UserFinder.isOffHeap());
+	}
+
+	public void setLastUpdateNull()
+	{
+		this.setLastUpdate(null);
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, UserFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public int getProfileId()
+	{
+		return this.profileId;
+	}
+
+	public void setProfileId(int value)
+	{
+		this.profileId = value;
+	}
+
+	public void setProfileIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public void setSourceId(int value)
+	{
+		this.sourceId = value;
+	}
+
+	public void setSourceIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getUserId()
+	{
+		return this.userId;
+	}
+
+	public int zGetUserIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(userId);
+	}
+
+	public void setUserId(String value)
+	{
+		this.userId = value;
+	}
+
+	public void setUserIdNull()
+	{
+		this.setUserId(null);
+	}
+
+	public void setActiveNull()
+	{
+		setActive((boolean)true);
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setDefaultGroupIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(UserData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.active = this.active;
+		copy.defaultGroupId = this.defaultGroupId;
+		copy.id = this.id;
+		copy.lastUpdate = this.lastUpdate;
+		copy.name = this.name;
+		copy.profileId = this.profileId;
+		copy.sourceId = this.sourceId;
+		copy.userId = this.userId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[12];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.active = in.readBoolean();
+		this.defaultGroupId = in.readInt();
+		this.id = in.readInt();
+		this.lastUpdate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), UserFinder.isFullCache(), UserFinder.isOffHeap());
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UserFinder.isFullCache());
+		this.profileId = in.readInt();
+		this.sourceId = in.readInt();
+		this.userId = (String)in.readObject();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final UserData otherData = (UserData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		if (getSourceId() != otherData.getSourceId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+		out.writeInt(this.sourceId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+		this.sourceId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getGroups()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[3];
+		}
+
+		return null;
+	}
+
+	public void setGroups(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[3] = related;
+	}
+
+	public Object getGroups2()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[4];
+		}
+
+		return null;
+	}
+
+	public void setGroups2(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[4] = related;
+	}
+
+	public Object getSourceGroups()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[8];
+		}
+
+		return null;
+	}
+
+	public void setSourceGroups(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[8] = related;
+	}
+
+	public Object getProfile()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[7];
+		}
+
+		return null;
+	}
+
+	public void setProfile(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[7] = related;
+	}
+
+	public Object getDefaultGroup()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setDefaultGroup(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public Object getGroup7()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setGroup7(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public Object getManagedDefaultGroup()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[6];
+		}
+
+		return null;
+	}
+
+	public void setManagedDefaultGroup(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[6] = related;
+	}
+
+	public Object getDefaultGroupManager()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setDefaultGroupManager(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getGroupsWithManagers()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[5];
+		}
+
+		return null;
+	}
+
+	public void setGroupsWithManagers(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[5] = related;
+	}
+
+	public Object getUserGroups2()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[10];
+		}
+
+		return null;
+	}
+
+	public void setUserGroups2(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[10] = related;
+	}
+
+	public Object getUserGroupsForActive()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[11];
+		}
+
+		return null;
+	}
+
+	public void setUserGroupsForActive(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[11] = related;
+	}
+
+	public Object getUserGroups()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[9];
+		}
+
+		return null;
+	}
+
+	public void setUserGroups(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[12];
+		}
+
+		_relationships[9] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final UserData userData = (UserData) newData;
+		this.setActive(userData.isActive());
+		if (userData.isActiveNull()) this.setActiveNull();
+		this.setDefaultGroupId(userData.getDefaultGroupId());
+		if (userData.isDefaultGroupIdNull()) this.setDefaultGroupIdNull();
+		this.setLastUpdate(userData.getLastUpdate());
+		this.setName(userData.getName());
+		this.setProfileId(userData.getProfileId());
+		this.setSourceId(userData.getSourceId());
+		this.setUserId(userData.getUserId());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final UserData other = (UserData) newData;
+		if ( isActiveNull() != other.isActiveNull() || isActive() != other.isActive())
+		{
+			return true;
+		}
+
+		if ( isDefaultGroupIdNull() != other.isDefaultGroupIdNull() || getDefaultGroupId() != other.getDefaultGroupId())
+		{
+			return true;
+		}
+
+		if (!isLastUpdateNull() ? !getLastUpdate().equals(other.getLastUpdate()) : !other.isLastUpdateNull())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		if ( getProfileId() != other.getProfileId())
+		{
+			return true;
+		}
+
+		if ( getSourceId() != other.getSourceId())
+		{
+			return true;
+		}
+
+		if (!isUserIdNull() ? !getUserId().equals(other.getUserId()) : !other.isUserIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		UserData copy = new UserData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		UserData copy = new UserData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		result += "sourceId: "+(""+getSourceId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.UserData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return UserFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return UserFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.UserData";
+	}
+}
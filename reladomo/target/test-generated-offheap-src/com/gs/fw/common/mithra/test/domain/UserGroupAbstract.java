@@ -0,0 +1,361 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class UserGroupAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy forgroup = new GroupRhs();
+	private static final class GroupRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			UserGroup _castedSrcObject = (UserGroup) _srcObject;
+			Group _castedTargetData = (Group) _targetData;
+			if (_castedSrcObject.getDependentId() == _castedTargetData.getId() && _castedSrcObject.getSourceId() == _castedTargetData.getSourceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			UserGroup _castedSrcObject = (UserGroup) _srcObject;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getDependentId()),HashUtil.hash(_castedSrcObject.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private int dependentId;
+	private int ownerId;
+	private int sourceId;
+	public boolean isDependentIdNull()
+	{
+		return false;
+	}
+
+	public boolean isOwnerIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.dependentId);
+		out.writeInt(this.ownerId);
+		out.writeInt(this.sourceId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		UserGroupData data = new UserGroupData();
+		data.setDependentId(dependentId);
+		data.setOwnerId(ownerId);
+		data.setSourceId(sourceId);
+		return data;
+	}
+
+	public UserGroup getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		UserGroupAbstract copy = (UserGroupAbstract) UserGroupFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (UserGroup)copy;
+	}
+
+	protected void zSetFromUserGroupData(UserGroupData data)
+	{
+		this.setFromUserGroupData(data);
+	}
+
+	public void setFromUserGroupData(UserGroupData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		dependentId = data.getDependentId();
+		ownerId = data.getOwnerId();
+		sourceId = data.getSourceId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return UserGroupFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromUserGroupData((UserGroupData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public int getDependentId()
+	{
+		return this.dependentId;
+	}
+
+	public void setDependentId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.dependentId = value;
+	}
+
+	public int getOwnerId()
+	{
+		return this.ownerId;
+	}
+
+	public void setOwnerId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.ownerId = value;
+	}
+
+	public int getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public void setSourceId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.sourceId = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Group.id = this.dependentId</pre>
+	* @return The group
+	*/
+	public Group getGroup()
+	{
+		Group _result = null;
+		if (_relationships != null)
+		{
+			_result = (Group)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = GroupFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forgroup, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Group) _related;
+				if (_related == null)
+				{
+					_result = GroupFinder.zFindOneForRelationship(zGetGroupOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setGroup(Group group)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = group;
+		if (group == null)
+		{
+			this.setDependentId(0);
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setDependentId(group.getId());
+			this.setSourceId(group.getSourceId());
+		}
+	}
+
+	public Operation zGetGroupOperation()
+	{
+		UserGroupAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(UserGroupFinder.group().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final UserGroupData userGroupData = (UserGroupData) newData;
+		if (sourceId != userGroupData.getSourceId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "dependentId: "+(""+getDependentId())+ " / ";
+		result += "ownerId: "+(""+getOwnerId())+ " / ";
+		result += "sourceId: "+(""+getSourceId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.dependentId);
+			out.writeInt(this.ownerId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.dependentId = in.readInt();
+			this.ownerId = in.readInt();
+			this.sourceId = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.dependentId = in.readInt();
+			this.ownerId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = UserGroupFinder.ownerId().eq(this.getOwnerId());
+			op = op.and(UserGroupFinder.dependentId().eq(this.getDependentId()));
+			return UserGroupFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,834 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class UserGroupFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("sourceId",
+		IntegerAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/UserGroup";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.UserGroup";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.UserGroup");
+	private static final UserGroupSingleFinder<UserGroup, Object, UserGroup> finder = new UserGroupSingleFinder<UserGroup, Object, UserGroup>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(UserGroupFinder.UserGroupRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("ownerId");
+		finderMethodMap.addNormalAttributeName("dependentId");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addRelationshipName("group");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = UserGroupFinder.dependentId().constructEqualityMapper(GroupFinder.id());
+			result[1] = GroupFinder.id().constructEqualityMapper(UserGroupFinder.dependentId());
+			result[2] = UserGroupFinder.sourceId().constructEqualityMapper(GroupFinder.sourceId());
+			result[3] = GroupFinder.sourceId().constructEqualityMapper(UserGroupFinder.sourceId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = UserGroupFinder.dependentId().eq(2);
+			result[1] = UserGroupFinder.sourceId().eq(1);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return UserGroupFinder.zSourceAttributeType;
+	}
+
+	public static UserGroup findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static UserGroup findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static UserGroupList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (UserGroupList) finder.findMany(operation);
+	}
+
+	public static UserGroupList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (UserGroupList) finder.findManyBypassCache(operation);
+	}
+
+	private static UserGroup findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (UserGroup) FinderUtils.findOne(found);
+	}
+
+	public static UserGroup findByPrimaryKey(int ownerId, int dependentId, int sourceId)
+	{
+		return finder.findByPrimaryKey(ownerId, dependentId, sourceId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			UserGroup _castedTargetData = (UserGroup) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOwnerId() && _bean.getI2AsInteger() == _castedTargetData.getDependentId() && _bean.getI3AsInteger() == _castedTargetData.getSourceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger()));
+		}
+	}
+
+	public static UserGroup zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (UserGroup) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class UserGroupRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<UserGroup, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return UserGroupFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> ownerId;
+		private IntegerAttribute<ParentOwnerType> dependentId;
+		private UserGroupGroupFinderSubclass<ParentOwnerType> group;
+		private IntegerAttribute<ParentOwnerType> sourceId;
+		public UserGroupRelatedFinder()
+		{
+			super();
+		}
+
+		public UserGroupRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.UserGroupFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return UserGroupFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return UserGroupFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return UserGroupFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.ownerId();
+			attributes[1] = this.dependentId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.group());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public UserGroup findOne(com.gs.fw.finder.Operation operation)
+		{
+			return UserGroupFinder.findOne(operation, false);
+		}
+
+		public UserGroup findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return UserGroupFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends UserGroup> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new UserGroupList((Operation) operation);
+		}
+
+		public MithraList<? extends UserGroup> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			UserGroupList result = (UserGroupList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends UserGroup> constructEmptyList()
+		{
+			return new UserGroupList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 227866939;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return UserGroupFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> ownerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.ownerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_OID","","ownerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(UserGroupFinder.ownerId(), this.mapper, this.zGetValueSelector());
+				this.ownerId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> dependentId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.dependentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("GROUP_OID","","dependentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(UserGroupFinder.dependentId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("group");
+				this.dependentId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate(null,"","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(UserGroupFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public GroupFinder.GroupSingleFinderForRelatedClasses<ParentOwnerType, Group, UserGroup> group()
+		{
+			UserGroupGroupFinderSubclass<ParentOwnerType> result = this.group;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserGroupFinder.zGetUserGroupGroupReverseMapper());
+				newMapper.setToMany(false);
+				result = new UserGroupGroupFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.group = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return UserGroupFinder.sourceId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return UserGroupFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return UserGroupFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class UserGroupCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends UserGroupRelatedFinder<ParentOwnerType, ReturnType, UserGroupList, OwnerType>
+	{
+		public UserGroupCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class UserGroupCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends UserGroupCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public UserGroupCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class UserGroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends UserGroupRelatedFinder<ParentOwnerType, ReturnType, UserGroupList, OwnerType>
+	implements ToOneFinder
+	{
+		public UserGroupSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public UserGroupSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(UserGroup other)
+		{
+			return this.ownerId().eq(other.getOwnerId())
+			.and(this.dependentId().eq(other.getDependentId()))
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public UserGroup findByPrimaryKey(int ownerId, int dependentId, int sourceId)
+		{
+			UserGroup _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(ownerId);
+				_bean.setI2AsInteger(dependentId);
+				_bean.setI3AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (UserGroup) _related;
+			if (_related == null)
+			{
+				_op = this.ownerId().eq(ownerId).and(this.dependentId().eq(dependentId)).and(this.sourceId().eq(sourceId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class UserGroupSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends UserGroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public UserGroupSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper groupReverseMapper = null;
+	public static Mapper zGetUserGroupGroupReverseMapper()
+	{
+		if (groupReverseMapper == null)
+		{
+			groupReverseMapper = zConstructUserGroupGroupReverseMapper();
+		}
+
+		return groupReverseMapper;
+	}
+
+	private static Mapper groupMapper = null;
+	public static Mapper zGetUserGroupGroupMapper()
+	{
+		if (groupMapper == null)
+		{
+			groupMapper = zConstructUserGroupGroupMapper();
+		}
+
+		return groupMapper;
+	}
+
+	private static Mapper groupPureReverseMapper = null;
+	public static Mapper zGetUserGroupGroupPureReverseMapper()
+	{
+		if (groupPureReverseMapper == null)
+		{
+			groupPureReverseMapper = zConstructUserGroupGroupPureReverseMapper();
+		}
+
+		return groupPureReverseMapper;
+	}
+
+	private static Mapper zConstructUserGroupGroupPureReverseMapper()
+	{
+		InternalList groupMapperMapperList = new InternalList(2);
+		groupMapperMapperList.add(UserGroupFinder.zGetConstantJoin(0));
+		groupMapperMapperList.add(UserGroupFinder.zGetConstantJoin(2));
+		Mapper groupMapper = new MultiEqualityMapper(groupMapperMapperList);
+		groupMapper.setName("group");
+		return groupMapper;
+	}
+
+	private static Mapper zConstructUserGroupGroupReverseMapper()
+	{
+		InternalList groupMapperMapperList = new InternalList(2);
+		groupMapperMapperList.add(UserGroupFinder.zGetConstantJoin(0));
+		groupMapperMapperList.add(UserGroupFinder.zGetConstantJoin(2));
+		Mapper groupMapper = new MultiEqualityMapper(groupMapperMapperList);
+		groupMapper.setName("group");
+		return groupMapper;
+	}
+
+	private static Mapper zConstructUserGroupGroupMapper()
+	{
+		InternalList groupMapperMapperList = new InternalList(2);
+		groupMapperMapperList.add(UserGroupFinder.zGetConstantJoin(1));
+		groupMapperMapperList.add(UserGroupFinder.zGetConstantJoin(3));
+		Mapper groupMapper = new MultiEqualityMapper(groupMapperMapperList);
+		groupMapper.setName("group_Reverse");
+		return groupMapper;
+	}
+
+	/** maps to USER_GROUP.USER_OID **/
+	public static IntegerAttribute<UserGroup> ownerId()
+	{
+		return finder.ownerId();
+	}
+
+	/** maps to USER_GROUP.GROUP_OID **/
+	public static IntegerAttribute<UserGroup> dependentId()
+	{
+		return finder.dependentId();
+	}
+
+	public static IntegerAttribute<UserGroup> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	public static GroupFinder.GroupSingleFinderForRelatedClasses<UserGroup, Group, UserGroup> group()
+	{
+		return finder.group();
+	}
+
+	public static class UserGroupGroupFinderSubclass<ParentOwnerType> extends GroupFinder.GroupSingleFinderForRelatedClasses<ParentOwnerType, Group, UserGroup>
+	{
+		public UserGroupGroupFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "group";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				GroupFinder.id(),
+				GroupFinder.sourceId()).withExtractors(
+				UserGroupFinder.dependentId(),
+				UserGroupFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserGroupGroupFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Group plainValueOf(UserGroup _obj)
+		{
+			return _obj.getGroup();
+		}
+
+		protected GroupList plainListValueOf(Object _obj)
+		{
+			return ((UserGroupList)_obj).getGroups();
+		}
+	}
+
+	public static Operation eq(UserGroup other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(ownerId());
+	}
+
+	public static UserGroupSingleFinder<UserGroup, Object, UserGroup> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			ownerId()
+			, dependentId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			ownerId()
+			, ownerId()
+			, dependentId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			ownerId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			dependentId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			dependentId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			GroupFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			GroupFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.UserGroup");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(int sourceId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(sourceId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<Integer> sourceIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceIdSet, listener);
+	}
+}
@@ -0,0 +1,118 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class UserGroupListAbstract extends DelegatingList<UserGroup> implements MithraList<UserGroup>
+{
+	public UserGroupListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public UserGroupListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public UserGroupListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public UserGroupListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public UserGroup[] elements()
+	{
+		UserGroup[] result = new UserGroup[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public UserGroupList intersection(UserGroupList another)
+	{
+		return (UserGroupList)super.intersection(another);
+	}
+
+	public UserGroup getUserGroupAt(int index)
+	{
+		return (UserGroup)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Group.id = this.dependentId</pre>
+	* @return The group
+	*/
+	public GroupList getGroups()
+	{
+		return (GroupList) this.zGetDelegated().resolveRelationship(this, UserGroupFinder.group());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return UserGroupFinder.getMithraObjectPortal();
+	}
+
+	public UserGroupList getNonPersistentCopy()
+	{
+		UserGroupList result = new UserGroupList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public UserGroupList asAdhoc()
+	{
+		return (UserGroupList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<UserGroup> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
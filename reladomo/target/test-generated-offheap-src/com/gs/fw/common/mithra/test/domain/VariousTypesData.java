@@ -0,0 +1,708 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class VariousTypesData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private boolean booleanColumn;
+	private byte byteColumn;
+	private char charColumn;
+	private double doubleColumn;
+	private float floatColumn;
+	private int id;
+	private int intColumn;
+	private long longColumn;
+	private short shortColumn;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isBooleanColumnNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isByteColumnNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isFloatColumnNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isShortColumnNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isLongColumnNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isDoubleColumnNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isCharColumnNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isIntColumnNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.booleanColumn);
+		out.writeByte(this.byteColumn);
+		out.writeChar(this.charColumn);
+		out.writeDouble(this.doubleColumn);
+		out.writeFloat(this.floatColumn);
+		out.writeInt(this.id);
+		out.writeInt(this.intColumn);
+		out.writeLong(this.longColumn);
+		out.writeShort(this.shortColumn);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public boolean isBooleanColumn()
+	{
+		return this.booleanColumn;
+	}
+
+	public void setBooleanColumn(boolean value)
+	{
+		this.booleanColumn = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public byte getByteColumn()
+	{
+		return this.byteColumn;
+	}
+
+	public void setByteColumn(byte value)
+	{
+		this.byteColumn = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public char getCharColumn()
+	{
+		return this.charColumn;
+	}
+
+	public void setCharColumn(char value)
+	{
+		this.charColumn = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public double getDoubleColumn()
+	{
+		return this.doubleColumn;
+	}
+
+	public void setDoubleColumn(double value)
+	{
+		this.doubleColumn = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public float getFloatColumn()
+	{
+		return this.floatColumn;
+	}
+
+	public void setFloatColumn(float value)
+	{
+		this.floatColumn = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getIntColumn()
+	{
+		return this.intColumn;
+	}
+
+	public void setIntColumn(int value)
+	{
+		this.intColumn = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	public long getLongColumn()
+	{
+		return this.longColumn;
+	}
+
+	public void setLongColumn(long value)
+	{
+		this.longColumn = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public short getShortColumn()
+	{
+		return this.shortColumn;
+	}
+
+	public void setShortColumn(short value)
+	{
+		this.shortColumn = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public void setBooleanColumnNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setByteColumnNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setFloatColumnNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setShortColumnNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setLongColumnNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setDoubleColumnNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setCharColumnNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+	}
+
+	public void setIntColumnNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 7);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(VariousTypesData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.booleanColumn = this.booleanColumn;
+		copy.byteColumn = this.byteColumn;
+		copy.charColumn = this.charColumn;
+		copy.doubleColumn = this.doubleColumn;
+		copy.floatColumn = this.floatColumn;
+		copy.id = this.id;
+		copy.intColumn = this.intColumn;
+		copy.longColumn = this.longColumn;
+		copy.shortColumn = this.shortColumn;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[9];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.booleanColumn = in.readBoolean();
+		this.byteColumn = in.readByte();
+		this.charColumn = in.readChar();
+		this.doubleColumn = in.readDouble();
+		this.floatColumn = in.readFloat();
+		this.id = in.readInt();
+		this.intColumn = in.readInt();
+		this.longColumn = in.readLong();
+		this.shortColumn = in.readShort();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final VariousTypesData otherData = (VariousTypesData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getDatatypesByIntColumn()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[6];
+		}
+
+		return null;
+	}
+
+	public void setDatatypesByIntColumn(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[9];
+		}
+
+		_relationships[6] = related;
+	}
+
+	public Object getDatatypesById()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[5];
+		}
+
+		return null;
+	}
+
+	public void setDatatypesById(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[9];
+		}
+
+		_relationships[5] = related;
+	}
+
+	public Object getDatatypesByBooleanColumn()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setDatatypesByBooleanColumn(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[9];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public Object getDatatypesByByteColumn()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setDatatypesByByteColumn(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[9];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getDatatypesByFloatColumn()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[4];
+		}
+
+		return null;
+	}
+
+	public void setDatatypesByFloatColumn(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[9];
+		}
+
+		_relationships[4] = related;
+	}
+
+	public Object getDatatypesByShortColumn()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[8];
+		}
+
+		return null;
+	}
+
+	public void setDatatypesByShortColumn(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[9];
+		}
+
+		_relationships[8] = related;
+	}
+
+	public Object getDatatypesByLongColumn()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[7];
+		}
+
+		return null;
+	}
+
+	public void setDatatypesByLongColumn(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[9];
+		}
+
+		_relationships[7] = related;
+	}
+
+	public Object getDatatypesByDoubleColumn()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[3];
+		}
+
+		return null;
+	}
+
+	public void setDatatypesByDoubleColumn(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[9];
+		}
+
+		_relationships[3] = related;
+	}
+
+	public Object getDatatypesByCharColumn()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setDatatypesByCharColumn(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[9];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final VariousTypesData variousTypesData = (VariousTypesData) newData;
+		this.setBooleanColumn(variousTypesData.isBooleanColumn());
+		if (variousTypesData.isBooleanColumnNull()) this.setBooleanColumnNull();
+		this.setByteColumn(variousTypesData.getByteColumn());
+		if (variousTypesData.isByteColumnNull()) this.setByteColumnNull();
+		this.setCharColumn(variousTypesData.getCharColumn());
+		if (variousTypesData.isCharColumnNull()) this.setCharColumnNull();
+		this.setDoubleColumn(variousTypesData.getDoubleColumn());
+		if (variousTypesData.isDoubleColumnNull()) this.setDoubleColumnNull();
+		this.setFloatColumn(variousTypesData.getFloatColumn());
+		if (variousTypesData.isFloatColumnNull()) this.setFloatColumnNull();
+		this.setIntColumn(variousTypesData.getIntColumn());
+		if (variousTypesData.isIntColumnNull()) this.setIntColumnNull();
+		this.setLongColumn(variousTypesData.getLongColumn());
+		if (variousTypesData.isLongColumnNull()) this.setLongColumnNull();
+		this.setShortColumn(variousTypesData.getShortColumn());
+		if (variousTypesData.isShortColumnNull()) this.setShortColumnNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final VariousTypesData other = (VariousTypesData) newData;
+		if ( isBooleanColumnNull() != other.isBooleanColumnNull() || isBooleanColumn() != other.isBooleanColumn())
+		{
+			return true;
+		}
+
+		if ( isByteColumnNull() != other.isByteColumnNull() || getByteColumn() != other.getByteColumn())
+		{
+			return true;
+		}
+
+		if ( isCharColumnNull() != other.isCharColumnNull() || getCharColumn() != other.getCharColumn())
+		{
+			return true;
+		}
+
+		if ( isDoubleColumnNull() != other.isDoubleColumnNull() || Math.abs(getDoubleColumn() - other.getDoubleColumn()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFloatColumnNull() != other.isFloatColumnNull() || Math.abs(getFloatColumn() - other.getFloatColumn()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isIntColumnNull() != other.isIntColumnNull() || getIntColumn() != other.getIntColumn())
+		{
+			return true;
+		}
+
+		if ( isLongColumnNull() != other.isLongColumnNull() || getLongColumn() != other.getLongColumn())
+		{
+			return true;
+		}
+
+		if ( isShortColumnNull() != other.isShortColumnNull() || getShortColumn() != other.getShortColumn())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		VariousTypesData copy = new VariousTypesData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		VariousTypesData copy = new VariousTypesData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.VariousTypesData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return VariousTypesFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return VariousTypesFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.VariousTypesData";
+	}
+}
@@ -0,0 +1,2221 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class VariousTypesFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/VariousTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.VariousTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.VariousTypes");
+	private static final VariousTypesSingleFinder<VariousTypes, Object, VariousTypes> finder = new VariousTypesSingleFinder<VariousTypes, Object, VariousTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byId = -1;
+	private static int INDEX_byByteColumn = -1;
+	private static int INDEX_byFloatColumn = -1;
+	private static int INDEX_byShortColumn = -1;
+	private static int INDEX_byLongColumn = -1;
+	private static int INDEX_byDoubleColumn = -1;
+	private static int INDEX_byCharColumn = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(VariousTypesFinder.VariousTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("booleanColumn");
+		finderMethodMap.addNormalAttributeName("byteColumn");
+		finderMethodMap.addNormalAttributeName("floatColumn");
+		finderMethodMap.addNormalAttributeName("shortColumn");
+		finderMethodMap.addNormalAttributeName("longColumn");
+		finderMethodMap.addNormalAttributeName("doubleColumn");
+		finderMethodMap.addNormalAttributeName("charColumn");
+		finderMethodMap.addNormalAttributeName("intColumn");
+		finderMethodMap.addRelationshipName("datatypesByIntColumn");
+		finderMethodMap.addRelationshipName("datatypesById");
+		finderMethodMap.addRelationshipName("datatypesByBooleanColumn");
+		finderMethodMap.addRelationshipName("datatypesByByteColumn");
+		finderMethodMap.addRelationshipName("datatypesByFloatColumn");
+		finderMethodMap.addRelationshipName("datatypesByShortColumn");
+		finderMethodMap.addRelationshipName("datatypesByLongColumn");
+		finderMethodMap.addRelationshipName("datatypesByDoubleColumn");
+		finderMethodMap.addRelationshipName("datatypesByCharColumn");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[18];
+			result[0] = VariousTypesFinder.intColumn().constructEqualityMapper(DifferentDataTypesFinder.intColumn());
+			result[1] = DifferentDataTypesFinder.intColumn().constructEqualityMapper(VariousTypesFinder.intColumn());
+			result[2] = VariousTypesFinder.id().constructEqualityMapper(DifferentDataTypesFinder.id());
+			result[3] = DifferentDataTypesFinder.id().constructEqualityMapper(VariousTypesFinder.id());
+			result[4] = VariousTypesFinder.booleanColumn().constructEqualityMapper(DifferentDataTypesFinder.booleanColumn());
+			result[5] = DifferentDataTypesFinder.booleanColumn().constructEqualityMapper(VariousTypesFinder.booleanColumn());
+			result[6] = VariousTypesFinder.byteColumn().constructEqualityMapper(DifferentDataTypesFinder.byteColumn());
+			result[7] = DifferentDataTypesFinder.byteColumn().constructEqualityMapper(VariousTypesFinder.byteColumn());
+			result[8] = VariousTypesFinder.floatColumn().constructEqualityMapper(DifferentDataTypesFinder.floatColumn());
+			result[9] = DifferentDataTypesFinder.floatColumn().constructEqualityMapper(VariousTypesFinder.floatColumn());
+			result[10] = VariousTypesFinder.shortColumn().constructEqualityMapper(DifferentDataTypesFinder.shortColumn());
+			result[11] = DifferentDataTypesFinder.shortColumn().constructEqualityMapper(VariousTypesFinder.shortColumn());
+			result[12] = VariousTypesFinder.longColumn().constructEqualityMapper(DifferentDataTypesFinder.longColumn());
+			result[13] = DifferentDataTypesFinder.longColumn().constructEqualityMapper(VariousTypesFinder.longColumn());
+			result[14] = VariousTypesFinder.doubleColumn().constructEqualityMapper(DifferentDataTypesFinder.doubleColumn());
+			result[15] = DifferentDataTypesFinder.doubleColumn().constructEqualityMapper(VariousTypesFinder.doubleColumn());
+			result[16] = VariousTypesFinder.charColumn().constructEqualityMapper(DifferentDataTypesFinder.charColumn());
+			result[17] = DifferentDataTypesFinder.charColumn().constructEqualityMapper(VariousTypesFinder.charColumn());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static VariousTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static VariousTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static VariousTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (VariousTypesList) finder.findMany(operation);
+	}
+
+	public static VariousTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (VariousTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static VariousTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (VariousTypes) FinderUtils.findOne(found);
+	}
+
+	public static VariousTypes findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static VariousTypes findById(int id)
+	{
+		return finder.findById(id);
+	}
+
+	private static final RelationshipHashStrategy forId = new IdRhs();
+	private static final class IdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static VariousTypes findByByteColumn(byte byteColumn)
+	{
+		return finder.findByByteColumn(byteColumn);
+	}
+
+	private static final RelationshipHashStrategy forByteColumn = new ByteColumnRhs();
+	private static final class ByteColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_bean.getI1AsByte() == _castedTargetData.getByteColumn())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsByte());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsByte());
+		}
+	}
+
+	public static VariousTypes findByFloatColumn(float floatColumn)
+	{
+		return finder.findByFloatColumn(floatColumn);
+	}
+
+	private static final RelationshipHashStrategy forFloatColumn = new FloatColumnRhs();
+	private static final class FloatColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_bean.getI1AsFloat() == _castedTargetData.getFloatColumn())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsFloat());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsFloat());
+		}
+	}
+
+	public static VariousTypes findByShortColumn(short shortColumn)
+	{
+		return finder.findByShortColumn(shortColumn);
+	}
+
+	private static final RelationshipHashStrategy forShortColumn = new ShortColumnRhs();
+	private static final class ShortColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_bean.getI1AsShort() == _castedTargetData.getShortColumn())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsShort());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsShort());
+		}
+	}
+
+	public static VariousTypes findByLongColumn(long longColumn)
+	{
+		return finder.findByLongColumn(longColumn);
+	}
+
+	private static final RelationshipHashStrategy forLongColumn = new LongColumnRhs();
+	private static final class LongColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getLongColumn())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static VariousTypes findByDoubleColumn(double doubleColumn)
+	{
+		return finder.findByDoubleColumn(doubleColumn);
+	}
+
+	private static final RelationshipHashStrategy forDoubleColumn = new DoubleColumnRhs();
+	private static final class DoubleColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_bean.getL1AsDouble() == _castedTargetData.getDoubleColumn())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsDouble());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsDouble());
+		}
+	}
+
+	public static VariousTypes findByCharColumn(char charColumn)
+	{
+		return finder.findByCharColumn(charColumn);
+	}
+
+	private static final RelationshipHashStrategy forCharColumn = new CharColumnRhs();
+	private static final class CharColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_bean.getI1AsChar() == _castedTargetData.getCharColumn())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsChar());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsChar());
+		}
+	}
+
+	public static VariousTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (VariousTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class VariousTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<VariousTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private BooleanAttribute<ParentOwnerType> booleanColumn;
+		private ByteAttribute<ParentOwnerType> byteColumn;
+		private FloatAttribute<ParentOwnerType> floatColumn;
+		private ShortAttribute<ParentOwnerType> shortColumn;
+		private LongAttribute<ParentOwnerType> longColumn;
+		private DoubleAttribute<ParentOwnerType> doubleColumn;
+		private CharAttribute<ParentOwnerType> charColumn;
+		private IntegerAttribute<ParentOwnerType> intColumn;
+		private VariousTypesDatatypesByIntColumnFinderSubclass<ParentOwnerType> datatypesByIntColumn;
+		private VariousTypesDatatypesByIdFinderSubclass<ParentOwnerType> datatypesById;
+		private VariousTypesDatatypesByBooleanColumnFinderSubclass<ParentOwnerType> datatypesByBooleanColumn;
+		private VariousTypesDatatypesByByteColumnFinderSubclass<ParentOwnerType> datatypesByByteColumn;
+		private VariousTypesDatatypesByFloatColumnFinderSubclass<ParentOwnerType> datatypesByFloatColumn;
+		private VariousTypesDatatypesByShortColumnFinderSubclass<ParentOwnerType> datatypesByShortColumn;
+		private VariousTypesDatatypesByLongColumnFinderSubclass<ParentOwnerType> datatypesByLongColumn;
+		private VariousTypesDatatypesByDoubleColumnFinderSubclass<ParentOwnerType> datatypesByDoubleColumn;
+		private VariousTypesDatatypesByCharColumnFinderSubclass<ParentOwnerType> datatypesByCharColumn;
+		public VariousTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public VariousTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.VariousTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return VariousTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return VariousTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return VariousTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[9];
+			attributes[0] = this.id();
+			attributes[1] = this.booleanColumn();
+			attributes[2] = this.byteColumn();
+			attributes[3] = this.floatColumn();
+			attributes[4] = this.shortColumn();
+			attributes[5] = this.longColumn();
+			attributes[6] = this.doubleColumn();
+			attributes[7] = this.charColumn();
+			attributes[8] = this.intColumn();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(9);
+				relatedFinders.add(this.datatypesByIntColumn());
+				relatedFinders.add(this.datatypesById());
+				relatedFinders.add(this.datatypesByBooleanColumn());
+				relatedFinders.add(this.datatypesByByteColumn());
+				relatedFinders.add(this.datatypesByFloatColumn());
+				relatedFinders.add(this.datatypesByShortColumn());
+				relatedFinders.add(this.datatypesByLongColumn());
+				relatedFinders.add(this.datatypesByDoubleColumn());
+				relatedFinders.add(this.datatypesByCharColumn());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public VariousTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return VariousTypesFinder.findOne(operation, false);
+		}
+
+		public VariousTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return VariousTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends VariousTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new VariousTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends VariousTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			VariousTypesList result = (VariousTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends VariousTypes> constructEmptyList()
+		{
+			return new VariousTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1656516659;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(VariousTypesFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanColumn()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOLEAN_COLUMN","","booleanColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(VariousTypesFinder.booleanColumn(), this.mapper, this.zGetValueSelector());
+				this.booleanColumn = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteColumn()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_COLUMN","","byteColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(VariousTypesFinder.byteColumn(), this.mapper, this.zGetValueSelector());
+				this.byteColumn = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatColumn()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_COLUMN","","floatColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(VariousTypesFinder.floatColumn(), this.mapper, this.zGetValueSelector());
+				this.floatColumn = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortColumn()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_COLUMN","","shortColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(VariousTypesFinder.shortColumn(), this.mapper, this.zGetValueSelector());
+				this.shortColumn = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longColumn()
+		{
+			LongAttribute<ParentOwnerType> result = this.longColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_COLUMN","","longColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(VariousTypesFinder.longColumn(), this.mapper, this.zGetValueSelector());
+				this.longColumn = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleColumn()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_COLUMN","","doubleColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(VariousTypesFinder.doubleColumn(), this.mapper, this.zGetValueSelector());
+				this.doubleColumn = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charColumn()
+		{
+			CharAttribute<ParentOwnerType> result = this.charColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_COLUMN","","charColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(VariousTypesFinder.charColumn(), this.mapper, this.zGetValueSelector());
+				this.charColumn = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intColumn()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intColumn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_COLUMN","","intColumn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(VariousTypesFinder.intColumn(), this.mapper, this.zGetValueSelector());
+				this.intColumn = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes> datatypesByIntColumn()
+		{
+			VariousTypesDatatypesByIntColumnFinderSubclass<ParentOwnerType> result = this.datatypesByIntColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByIntColumnReverseMapper());
+				newMapper.setToMany(true);
+				result = new VariousTypesDatatypesByIntColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypesByIntColumn = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesSingleFinderForRelatedClasses<ParentOwnerType, DifferentDataTypes, VariousTypes> datatypesById()
+		{
+			VariousTypesDatatypesByIdFinderSubclass<ParentOwnerType> result = this.datatypesById;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByIdReverseMapper());
+				newMapper.setToMany(false);
+				result = new VariousTypesDatatypesByIdFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypesById = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes> datatypesByBooleanColumn()
+		{
+			VariousTypesDatatypesByBooleanColumnFinderSubclass<ParentOwnerType> result = this.datatypesByBooleanColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByBooleanColumnReverseMapper());
+				newMapper.setToMany(true);
+				result = new VariousTypesDatatypesByBooleanColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypesByBooleanColumn = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes> datatypesByByteColumn()
+		{
+			VariousTypesDatatypesByByteColumnFinderSubclass<ParentOwnerType> result = this.datatypesByByteColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByByteColumnReverseMapper());
+				newMapper.setToMany(true);
+				result = new VariousTypesDatatypesByByteColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypesByByteColumn = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes> datatypesByFloatColumn()
+		{
+			VariousTypesDatatypesByFloatColumnFinderSubclass<ParentOwnerType> result = this.datatypesByFloatColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByFloatColumnReverseMapper());
+				newMapper.setToMany(true);
+				result = new VariousTypesDatatypesByFloatColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypesByFloatColumn = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes> datatypesByShortColumn()
+		{
+			VariousTypesDatatypesByShortColumnFinderSubclass<ParentOwnerType> result = this.datatypesByShortColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByShortColumnReverseMapper());
+				newMapper.setToMany(true);
+				result = new VariousTypesDatatypesByShortColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypesByShortColumn = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes> datatypesByLongColumn()
+		{
+			VariousTypesDatatypesByLongColumnFinderSubclass<ParentOwnerType> result = this.datatypesByLongColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByLongColumnReverseMapper());
+				newMapper.setToMany(true);
+				result = new VariousTypesDatatypesByLongColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypesByLongColumn = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes> datatypesByDoubleColumn()
+		{
+			VariousTypesDatatypesByDoubleColumnFinderSubclass<ParentOwnerType> result = this.datatypesByDoubleColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByDoubleColumnReverseMapper());
+				newMapper.setToMany(true);
+				result = new VariousTypesDatatypesByDoubleColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypesByDoubleColumn = result;
+			}
+
+			return result;
+		}
+
+		public DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes> datatypesByCharColumn()
+		{
+			VariousTypesDatatypesByCharColumnFinderSubclass<ParentOwnerType> result = this.datatypesByCharColumn;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(VariousTypesFinder.zGetVariousTypesDatatypesByCharColumnReverseMapper());
+				newMapper.setToMany(true);
+				result = new VariousTypesDatatypesByCharColumnFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datatypesByCharColumn = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return VariousTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return VariousTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class VariousTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends VariousTypesRelatedFinder<ParentOwnerType, ReturnType, VariousTypesList, OwnerType>
+	{
+		public VariousTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class VariousTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends VariousTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public VariousTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class VariousTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends VariousTypesRelatedFinder<ParentOwnerType, ReturnType, VariousTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public VariousTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public VariousTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(VariousTypes other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public VariousTypes findByPrimaryKey(int id)
+		{
+			VariousTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public VariousTypes findById(int id)
+		{
+			return this.findByPrimaryKey(id);
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public VariousTypes findByByteColumn(byte byteColumn)
+		{
+			VariousTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(byteColumn);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forByteColumn, null, null, VariousTypesFinder.zGetIndexbyByteColumnRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+			if (_related == null)
+			{
+				_op = this.byteColumn().eq(byteColumn);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public VariousTypes findByFloatColumn(float floatColumn)
+		{
+			VariousTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsFloat(floatColumn);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forFloatColumn, null, null, VariousTypesFinder.zGetIndexbyFloatColumnRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+			if (_related == null)
+			{
+				_op = this.floatColumn().eq(floatColumn);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public VariousTypes findByShortColumn(short shortColumn)
+		{
+			VariousTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(shortColumn);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forShortColumn, null, null, VariousTypesFinder.zGetIndexbyShortColumnRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+			if (_related == null)
+			{
+				_op = this.shortColumn().eq(shortColumn);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public VariousTypes findByLongColumn(long longColumn)
+		{
+			VariousTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(longColumn);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forLongColumn, null, null, VariousTypesFinder.zGetIndexbyLongColumnRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+			if (_related == null)
+			{
+				_op = this.longColumn().eq(longColumn);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public VariousTypes findByDoubleColumn(double doubleColumn)
+		{
+			VariousTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsDouble(doubleColumn);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forDoubleColumn, null, null, VariousTypesFinder.zGetIndexbyDoubleColumnRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+			if (_related == null)
+			{
+				_op = this.doubleColumn().eq(doubleColumn);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public VariousTypes findByCharColumn(char charColumn)
+		{
+			VariousTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(charColumn);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forCharColumn, null, null, VariousTypesFinder.zGetIndexbyCharColumnRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+			if (_related == null)
+			{
+				_op = this.charColumn().eq(charColumn);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class VariousTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends VariousTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public VariousTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper datatypesByIntColumnReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByIntColumnReverseMapper()
+	{
+		if (datatypesByIntColumnReverseMapper == null)
+		{
+			datatypesByIntColumnReverseMapper = zConstructVariousTypesDatatypesByIntColumnReverseMapper();
+		}
+
+		return datatypesByIntColumnReverseMapper;
+	}
+
+	private static Mapper datatypesByIntColumnMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByIntColumnMapper()
+	{
+		if (datatypesByIntColumnMapper == null)
+		{
+			datatypesByIntColumnMapper = zConstructVariousTypesDatatypesByIntColumnMapper();
+		}
+
+		return datatypesByIntColumnMapper;
+	}
+
+	private static Mapper datatypesByIntColumnPureReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByIntColumnPureReverseMapper()
+	{
+		if (datatypesByIntColumnPureReverseMapper == null)
+		{
+			datatypesByIntColumnPureReverseMapper = zConstructVariousTypesDatatypesByIntColumnPureReverseMapper();
+		}
+
+		return datatypesByIntColumnPureReverseMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByIntColumnPureReverseMapper()
+	{
+		Mapper datatypesByIntColumnMapper = VariousTypesFinder.zGetConstantJoin(0);
+		datatypesByIntColumnMapper.setName("datatypesByIntColumn");
+		return datatypesByIntColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByIntColumnReverseMapper()
+	{
+		Mapper datatypesByIntColumnMapper = VariousTypesFinder.zGetConstantJoin(0);
+		datatypesByIntColumnMapper.setName("datatypesByIntColumn");
+		return datatypesByIntColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByIntColumnMapper()
+	{
+		Mapper datatypesByIntColumnMapper = VariousTypesFinder.zGetConstantJoin(1);
+		datatypesByIntColumnMapper.setName("variousByIntColumn");
+		return datatypesByIntColumnMapper;
+	}
+
+	private static Mapper datatypesByIdReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByIdReverseMapper()
+	{
+		if (datatypesByIdReverseMapper == null)
+		{
+			datatypesByIdReverseMapper = zConstructVariousTypesDatatypesByIdReverseMapper();
+		}
+
+		return datatypesByIdReverseMapper;
+	}
+
+	private static Mapper datatypesByIdMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByIdMapper()
+	{
+		if (datatypesByIdMapper == null)
+		{
+			datatypesByIdMapper = zConstructVariousTypesDatatypesByIdMapper();
+		}
+
+		return datatypesByIdMapper;
+	}
+
+	private static Mapper datatypesByIdPureReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByIdPureReverseMapper()
+	{
+		if (datatypesByIdPureReverseMapper == null)
+		{
+			datatypesByIdPureReverseMapper = zConstructVariousTypesDatatypesByIdPureReverseMapper();
+		}
+
+		return datatypesByIdPureReverseMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByIdPureReverseMapper()
+	{
+		Mapper datatypesByIdMapper = VariousTypesFinder.zGetConstantJoin(2);
+		datatypesByIdMapper.setName("datatypesById");
+		return datatypesByIdMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByIdReverseMapper()
+	{
+		Mapper datatypesByIdMapper = VariousTypesFinder.zGetConstantJoin(2);
+		datatypesByIdMapper.setName("datatypesById");
+		return datatypesByIdMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByIdMapper()
+	{
+		Mapper datatypesByIdMapper = VariousTypesFinder.zGetConstantJoin(3);
+		datatypesByIdMapper.setName("variousById");
+		return datatypesByIdMapper;
+	}
+
+	private static Mapper datatypesByBooleanColumnReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByBooleanColumnReverseMapper()
+	{
+		if (datatypesByBooleanColumnReverseMapper == null)
+		{
+			datatypesByBooleanColumnReverseMapper = zConstructVariousTypesDatatypesByBooleanColumnReverseMapper();
+		}
+
+		return datatypesByBooleanColumnReverseMapper;
+	}
+
+	private static Mapper datatypesByBooleanColumnMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByBooleanColumnMapper()
+	{
+		if (datatypesByBooleanColumnMapper == null)
+		{
+			datatypesByBooleanColumnMapper = zConstructVariousTypesDatatypesByBooleanColumnMapper();
+		}
+
+		return datatypesByBooleanColumnMapper;
+	}
+
+	private static Mapper datatypesByBooleanColumnPureReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByBooleanColumnPureReverseMapper()
+	{
+		if (datatypesByBooleanColumnPureReverseMapper == null)
+		{
+			datatypesByBooleanColumnPureReverseMapper = zConstructVariousTypesDatatypesByBooleanColumnPureReverseMapper();
+		}
+
+		return datatypesByBooleanColumnPureReverseMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByBooleanColumnPureReverseMapper()
+	{
+		Mapper datatypesByBooleanColumnMapper = VariousTypesFinder.zGetConstantJoin(4);
+		datatypesByBooleanColumnMapper.setName("datatypesByBooleanColumn");
+		return datatypesByBooleanColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByBooleanColumnReverseMapper()
+	{
+		Mapper datatypesByBooleanColumnMapper = VariousTypesFinder.zGetConstantJoin(4);
+		datatypesByBooleanColumnMapper.setName("datatypesByBooleanColumn");
+		return datatypesByBooleanColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByBooleanColumnMapper()
+	{
+		Mapper datatypesByBooleanColumnMapper = VariousTypesFinder.zGetConstantJoin(5);
+		datatypesByBooleanColumnMapper.setName("variousByBooleanColumn");
+		return datatypesByBooleanColumnMapper;
+	}
+
+	private static Mapper datatypesByByteColumnReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByByteColumnReverseMapper()
+	{
+		if (datatypesByByteColumnReverseMapper == null)
+		{
+			datatypesByByteColumnReverseMapper = zConstructVariousTypesDatatypesByByteColumnReverseMapper();
+		}
+
+		return datatypesByByteColumnReverseMapper;
+	}
+
+	private static Mapper datatypesByByteColumnMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByByteColumnMapper()
+	{
+		if (datatypesByByteColumnMapper == null)
+		{
+			datatypesByByteColumnMapper = zConstructVariousTypesDatatypesByByteColumnMapper();
+		}
+
+		return datatypesByByteColumnMapper;
+	}
+
+	private static Mapper datatypesByByteColumnPureReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByByteColumnPureReverseMapper()
+	{
+		if (datatypesByByteColumnPureReverseMapper == null)
+		{
+			datatypesByByteColumnPureReverseMapper = zConstructVariousTypesDatatypesByByteColumnPureReverseMapper();
+		}
+
+		return datatypesByByteColumnPureReverseMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByByteColumnPureReverseMapper()
+	{
+		Mapper datatypesByByteColumnMapper = VariousTypesFinder.zGetConstantJoin(6);
+		datatypesByByteColumnMapper.setName("datatypesByByteColumn");
+		return datatypesByByteColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByByteColumnReverseMapper()
+	{
+		Mapper datatypesByByteColumnMapper = VariousTypesFinder.zGetConstantJoin(6);
+		datatypesByByteColumnMapper.setName("datatypesByByteColumn");
+		return datatypesByByteColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByByteColumnMapper()
+	{
+		Mapper datatypesByByteColumnMapper = VariousTypesFinder.zGetConstantJoin(7);
+		datatypesByByteColumnMapper.setName("variousByByteColumn");
+		return datatypesByByteColumnMapper;
+	}
+
+	private static Mapper datatypesByFloatColumnReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByFloatColumnReverseMapper()
+	{
+		if (datatypesByFloatColumnReverseMapper == null)
+		{
+			datatypesByFloatColumnReverseMapper = zConstructVariousTypesDatatypesByFloatColumnReverseMapper();
+		}
+
+		return datatypesByFloatColumnReverseMapper;
+	}
+
+	private static Mapper datatypesByFloatColumnMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByFloatColumnMapper()
+	{
+		if (datatypesByFloatColumnMapper == null)
+		{
+			datatypesByFloatColumnMapper = zConstructVariousTypesDatatypesByFloatColumnMapper();
+		}
+
+		return datatypesByFloatColumnMapper;
+	}
+
+	private static Mapper datatypesByFloatColumnPureReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByFloatColumnPureReverseMapper()
+	{
+		if (datatypesByFloatColumnPureReverseMapper == null)
+		{
+			datatypesByFloatColumnPureReverseMapper = zConstructVariousTypesDatatypesByFloatColumnPureReverseMapper();
+		}
+
+		return datatypesByFloatColumnPureReverseMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByFloatColumnPureReverseMapper()
+	{
+		Mapper datatypesByFloatColumnMapper = VariousTypesFinder.zGetConstantJoin(8);
+		datatypesByFloatColumnMapper.setName("datatypesByFloatColumn");
+		return datatypesByFloatColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByFloatColumnReverseMapper()
+	{
+		Mapper datatypesByFloatColumnMapper = VariousTypesFinder.zGetConstantJoin(8);
+		datatypesByFloatColumnMapper.setName("datatypesByFloatColumn");
+		return datatypesByFloatColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByFloatColumnMapper()
+	{
+		Mapper datatypesByFloatColumnMapper = VariousTypesFinder.zGetConstantJoin(9);
+		datatypesByFloatColumnMapper.setName("variousByFloatColumn");
+		return datatypesByFloatColumnMapper;
+	}
+
+	private static Mapper datatypesByShortColumnReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByShortColumnReverseMapper()
+	{
+		if (datatypesByShortColumnReverseMapper == null)
+		{
+			datatypesByShortColumnReverseMapper = zConstructVariousTypesDatatypesByShortColumnReverseMapper();
+		}
+
+		return datatypesByShortColumnReverseMapper;
+	}
+
+	private static Mapper datatypesByShortColumnMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByShortColumnMapper()
+	{
+		if (datatypesByShortColumnMapper == null)
+		{
+			datatypesByShortColumnMapper = zConstructVariousTypesDatatypesByShortColumnMapper();
+		}
+
+		return datatypesByShortColumnMapper;
+	}
+
+	private static Mapper datatypesByShortColumnPureReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByShortColumnPureReverseMapper()
+	{
+		if (datatypesByShortColumnPureReverseMapper == null)
+		{
+			datatypesByShortColumnPureReverseMapper = zConstructVariousTypesDatatypesByShortColumnPureReverseMapper();
+		}
+
+		return datatypesByShortColumnPureReverseMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByShortColumnPureReverseMapper()
+	{
+		Mapper datatypesByShortColumnMapper = VariousTypesFinder.zGetConstantJoin(10);
+		datatypesByShortColumnMapper.setName("datatypesByShortColumn");
+		return datatypesByShortColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByShortColumnReverseMapper()
+	{
+		Mapper datatypesByShortColumnMapper = VariousTypesFinder.zGetConstantJoin(10);
+		datatypesByShortColumnMapper.setName("datatypesByShortColumn");
+		return datatypesByShortColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByShortColumnMapper()
+	{
+		Mapper datatypesByShortColumnMapper = VariousTypesFinder.zGetConstantJoin(11);
+		datatypesByShortColumnMapper.setName("variousByShortColumn");
+		return datatypesByShortColumnMapper;
+	}
+
+	private static Mapper datatypesByLongColumnReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByLongColumnReverseMapper()
+	{
+		if (datatypesByLongColumnReverseMapper == null)
+		{
+			datatypesByLongColumnReverseMapper = zConstructVariousTypesDatatypesByLongColumnReverseMapper();
+		}
+
+		return datatypesByLongColumnReverseMapper;
+	}
+
+	private static Mapper datatypesByLongColumnMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByLongColumnMapper()
+	{
+		if (datatypesByLongColumnMapper == null)
+		{
+			datatypesByLongColumnMapper = zConstructVariousTypesDatatypesByLongColumnMapper();
+		}
+
+		return datatypesByLongColumnMapper;
+	}
+
+	private static Mapper datatypesByLongColumnPureReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByLongColumnPureReverseMapper()
+	{
+		if (datatypesByLongColumnPureReverseMapper == null)
+		{
+			datatypesByLongColumnPureReverseMapper = zConstructVariousTypesDatatypesByLongColumnPureReverseMapper();
+		}
+
+		return datatypesByLongColumnPureReverseMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByLongColumnPureReverseMapper()
+	{
+		Mapper datatypesByLongColumnMapper = VariousTypesFinder.zGetConstantJoin(12);
+		datatypesByLongColumnMapper.setName("datatypesByLongColumn");
+		return datatypesByLongColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByLongColumnReverseMapper()
+	{
+		Mapper datatypesByLongColumnMapper = VariousTypesFinder.zGetConstantJoin(12);
+		datatypesByLongColumnMapper.setName("datatypesByLongColumn");
+		return datatypesByLongColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByLongColumnMapper()
+	{
+		Mapper datatypesByLongColumnMapper = VariousTypesFinder.zGetConstantJoin(13);
+		datatypesByLongColumnMapper.setName("variousByLongColumn");
+		return datatypesByLongColumnMapper;
+	}
+
+	private static Mapper datatypesByDoubleColumnReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByDoubleColumnReverseMapper()
+	{
+		if (datatypesByDoubleColumnReverseMapper == null)
+		{
+			datatypesByDoubleColumnReverseMapper = zConstructVariousTypesDatatypesByDoubleColumnReverseMapper();
+		}
+
+		return datatypesByDoubleColumnReverseMapper;
+	}
+
+	private static Mapper datatypesByDoubleColumnMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByDoubleColumnMapper()
+	{
+		if (datatypesByDoubleColumnMapper == null)
+		{
+			datatypesByDoubleColumnMapper = zConstructVariousTypesDatatypesByDoubleColumnMapper();
+		}
+
+		return datatypesByDoubleColumnMapper;
+	}
+
+	private static Mapper datatypesByDoubleColumnPureReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByDoubleColumnPureReverseMapper()
+	{
+		if (datatypesByDoubleColumnPureReverseMapper == null)
+		{
+			datatypesByDoubleColumnPureReverseMapper = zConstructVariousTypesDatatypesByDoubleColumnPureReverseMapper();
+		}
+
+		return datatypesByDoubleColumnPureReverseMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByDoubleColumnPureReverseMapper()
+	{
+		Mapper datatypesByDoubleColumnMapper = VariousTypesFinder.zGetConstantJoin(14);
+		datatypesByDoubleColumnMapper.setName("datatypesByDoubleColumn");
+		return datatypesByDoubleColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByDoubleColumnReverseMapper()
+	{
+		Mapper datatypesByDoubleColumnMapper = VariousTypesFinder.zGetConstantJoin(14);
+		datatypesByDoubleColumnMapper.setName("datatypesByDoubleColumn");
+		return datatypesByDoubleColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByDoubleColumnMapper()
+	{
+		Mapper datatypesByDoubleColumnMapper = VariousTypesFinder.zGetConstantJoin(15);
+		datatypesByDoubleColumnMapper.setName("variousByDoubleColumn");
+		return datatypesByDoubleColumnMapper;
+	}
+
+	private static Mapper datatypesByCharColumnReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByCharColumnReverseMapper()
+	{
+		if (datatypesByCharColumnReverseMapper == null)
+		{
+			datatypesByCharColumnReverseMapper = zConstructVariousTypesDatatypesByCharColumnReverseMapper();
+		}
+
+		return datatypesByCharColumnReverseMapper;
+	}
+
+	private static Mapper datatypesByCharColumnMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByCharColumnMapper()
+	{
+		if (datatypesByCharColumnMapper == null)
+		{
+			datatypesByCharColumnMapper = zConstructVariousTypesDatatypesByCharColumnMapper();
+		}
+
+		return datatypesByCharColumnMapper;
+	}
+
+	private static Mapper datatypesByCharColumnPureReverseMapper = null;
+	public static Mapper zGetVariousTypesDatatypesByCharColumnPureReverseMapper()
+	{
+		if (datatypesByCharColumnPureReverseMapper == null)
+		{
+			datatypesByCharColumnPureReverseMapper = zConstructVariousTypesDatatypesByCharColumnPureReverseMapper();
+		}
+
+		return datatypesByCharColumnPureReverseMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByCharColumnPureReverseMapper()
+	{
+		Mapper datatypesByCharColumnMapper = VariousTypesFinder.zGetConstantJoin(16);
+		datatypesByCharColumnMapper.setName("datatypesByCharColumn");
+		return datatypesByCharColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByCharColumnReverseMapper()
+	{
+		Mapper datatypesByCharColumnMapper = VariousTypesFinder.zGetConstantJoin(16);
+		datatypesByCharColumnMapper.setName("datatypesByCharColumn");
+		return datatypesByCharColumnMapper;
+	}
+
+	private static Mapper zConstructVariousTypesDatatypesByCharColumnMapper()
+	{
+		Mapper datatypesByCharColumnMapper = VariousTypesFinder.zGetConstantJoin(17);
+		datatypesByCharColumnMapper.setName("variousByCharColumn");
+		return datatypesByCharColumnMapper;
+	}
+
+	/** maps to VARIOUS_TYPES.ID **/
+	public static IntegerAttribute<VariousTypes> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to VARIOUS_TYPES.BOOLEAN_COLUMN **/
+	public static BooleanAttribute<VariousTypes> booleanColumn()
+	{
+		return finder.booleanColumn();
+	}
+
+	/** maps to VARIOUS_TYPES.BYTE_COLUMN **/
+	public static ByteAttribute<VariousTypes> byteColumn()
+	{
+		return finder.byteColumn();
+	}
+
+	/** maps to VARIOUS_TYPES.FLOAT_COLUMN **/
+	public static FloatAttribute<VariousTypes> floatColumn()
+	{
+		return finder.floatColumn();
+	}
+
+	/** maps to VARIOUS_TYPES.SHORT_COLUMN **/
+	public static ShortAttribute<VariousTypes> shortColumn()
+	{
+		return finder.shortColumn();
+	}
+
+	/** maps to VARIOUS_TYPES.LONG_COLUMN **/
+	public static LongAttribute<VariousTypes> longColumn()
+	{
+		return finder.longColumn();
+	}
+
+	/** maps to VARIOUS_TYPES.DOUBLE_COLUMN **/
+	public static DoubleAttribute<VariousTypes> doubleColumn()
+	{
+		return finder.doubleColumn();
+	}
+
+	/** maps to VARIOUS_TYPES.CHAR_COLUMN **/
+	public static CharAttribute<VariousTypes> charColumn()
+	{
+		return finder.charColumn();
+	}
+
+	/** maps to VARIOUS_TYPES.INT_COLUMN **/
+	public static IntegerAttribute<VariousTypes> intColumn()
+	{
+		return finder.intColumn();
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<VariousTypes, DifferentDataTypesList, VariousTypes> datatypesByIntColumn()
+	{
+		return finder.datatypesByIntColumn();
+	}
+
+	public static class VariousTypesDatatypesByIntColumnFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes>
+	{
+		public VariousTypesDatatypesByIntColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "datatypesByIntColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new VariousTypesDatatypesByIntColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypesList plainValueOf(VariousTypes _obj)
+		{
+			return _obj.getDatatypesByIntColumn();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((VariousTypesList)_obj).getDatatypesByIntColumn();
+		}
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesSingleFinderForRelatedClasses<VariousTypes, DifferentDataTypes, VariousTypes> datatypesById()
+	{
+		return finder.datatypesById();
+	}
+
+	public static class VariousTypesDatatypesByIdFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesSingleFinderForRelatedClasses<ParentOwnerType, DifferentDataTypes, VariousTypes>
+	{
+		public VariousTypesDatatypesByIdFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "datatypesById";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new VariousTypesDatatypesByIdFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypes plainValueOf(VariousTypes _obj)
+		{
+			return _obj.getDatatypesById();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((VariousTypesList)_obj).getDatatypesByIds();
+		}
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<VariousTypes, DifferentDataTypesList, VariousTypes> datatypesByBooleanColumn()
+	{
+		return finder.datatypesByBooleanColumn();
+	}
+
+	public static class VariousTypesDatatypesByBooleanColumnFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes>
+	{
+		public VariousTypesDatatypesByBooleanColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "datatypesByBooleanColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new VariousTypesDatatypesByBooleanColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypesList plainValueOf(VariousTypes _obj)
+		{
+			return _obj.getDatatypesByBooleanColumn();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((VariousTypesList)_obj).getDatatypesByBooleanColumn();
+		}
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<VariousTypes, DifferentDataTypesList, VariousTypes> datatypesByByteColumn()
+	{
+		return finder.datatypesByByteColumn();
+	}
+
+	public static class VariousTypesDatatypesByByteColumnFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes>
+	{
+		public VariousTypesDatatypesByByteColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "datatypesByByteColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new VariousTypesDatatypesByByteColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypesList plainValueOf(VariousTypes _obj)
+		{
+			return _obj.getDatatypesByByteColumn();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((VariousTypesList)_obj).getDatatypesByByteColumn();
+		}
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<VariousTypes, DifferentDataTypesList, VariousTypes> datatypesByFloatColumn()
+	{
+		return finder.datatypesByFloatColumn();
+	}
+
+	public static class VariousTypesDatatypesByFloatColumnFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes>
+	{
+		public VariousTypesDatatypesByFloatColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "datatypesByFloatColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new VariousTypesDatatypesByFloatColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypesList plainValueOf(VariousTypes _obj)
+		{
+			return _obj.getDatatypesByFloatColumn();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((VariousTypesList)_obj).getDatatypesByFloatColumn();
+		}
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<VariousTypes, DifferentDataTypesList, VariousTypes> datatypesByShortColumn()
+	{
+		return finder.datatypesByShortColumn();
+	}
+
+	public static class VariousTypesDatatypesByShortColumnFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes>
+	{
+		public VariousTypesDatatypesByShortColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "datatypesByShortColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new VariousTypesDatatypesByShortColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypesList plainValueOf(VariousTypes _obj)
+		{
+			return _obj.getDatatypesByShortColumn();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((VariousTypesList)_obj).getDatatypesByShortColumn();
+		}
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<VariousTypes, DifferentDataTypesList, VariousTypes> datatypesByLongColumn()
+	{
+		return finder.datatypesByLongColumn();
+	}
+
+	public static class VariousTypesDatatypesByLongColumnFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes>
+	{
+		public VariousTypesDatatypesByLongColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "datatypesByLongColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new VariousTypesDatatypesByLongColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypesList plainValueOf(VariousTypes _obj)
+		{
+			return _obj.getDatatypesByLongColumn();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((VariousTypesList)_obj).getDatatypesByLongColumn();
+		}
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<VariousTypes, DifferentDataTypesList, VariousTypes> datatypesByDoubleColumn()
+	{
+		return finder.datatypesByDoubleColumn();
+	}
+
+	public static class VariousTypesDatatypesByDoubleColumnFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes>
+	{
+		public VariousTypesDatatypesByDoubleColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "datatypesByDoubleColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new VariousTypesDatatypesByDoubleColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypesList plainValueOf(VariousTypes _obj)
+		{
+			return _obj.getDatatypesByDoubleColumn();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((VariousTypesList)_obj).getDatatypesByDoubleColumn();
+		}
+	}
+
+	public static DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<VariousTypes, DifferentDataTypesList, VariousTypes> datatypesByCharColumn()
+	{
+		return finder.datatypesByCharColumn();
+	}
+
+	public static class VariousTypesDatatypesByCharColumnFinderSubclass<ParentOwnerType> extends DifferentDataTypesFinder.DifferentDataTypesCollectionFinderForRelatedClasses<ParentOwnerType, DifferentDataTypesList, VariousTypes>
+	{
+		public VariousTypesDatatypesByCharColumnFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "datatypesByCharColumn";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new VariousTypesDatatypesByCharColumnFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DifferentDataTypesList plainValueOf(VariousTypes _obj)
+		{
+			return _obj.getDatatypesByCharColumn();
+		}
+
+		protected DifferentDataTypesList plainListValueOf(Object _obj)
+		{
+			return ((VariousTypesList)_obj).getDatatypesByCharColumn();
+		}
+	}
+
+	public static Operation eq(VariousTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static VariousTypesSingleFinder<VariousTypes, Object, VariousTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_byId = cache.addUniqueIndex("byId", new Attribute[] 
+		{
+			id()
+		}
+
+		);
+		cache.addIndex("byBooleanColumn", new Attribute[] 
+		{
+			booleanColumn()
+		}
+
+		);
+		INDEX_byByteColumn = cache.addUniqueIndex("byByteColumn", new Attribute[] 
+		{
+			byteColumn()
+		}
+
+		);
+		INDEX_byFloatColumn = cache.addUniqueIndex("byFloatColumn", new Attribute[] 
+		{
+			floatColumn()
+		}
+
+		);
+		INDEX_byShortColumn = cache.addUniqueIndex("byShortColumn", new Attribute[] 
+		{
+			shortColumn()
+		}
+
+		);
+		INDEX_byLongColumn = cache.addUniqueIndex("byLongColumn", new Attribute[] 
+		{
+			longColumn()
+		}
+
+		);
+		INDEX_byDoubleColumn = cache.addUniqueIndex("byDoubleColumn", new Attribute[] 
+		{
+			doubleColumn()
+		}
+
+		);
+		INDEX_byCharColumn = cache.addUniqueIndex("byCharColumn", new Attribute[] 
+		{
+			charColumn()
+		}
+
+		);
+		cache.addIndex("8 Index", new Attribute[] 
+		{
+			intColumn()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyIdRef() 
+	{
+		return INDEX_byId; 
+	}
+
+	public static int zGetIndexbyByteColumnRef() 
+	{
+		return INDEX_byByteColumn; 
+	}
+
+	public static int zGetIndexbyFloatColumnRef() 
+	{
+		return INDEX_byFloatColumn; 
+	}
+
+	public static int zGetIndexbyShortColumnRef() 
+	{
+		return INDEX_byShortColumn; 
+	}
+
+	public static int zGetIndexbyLongColumnRef() 
+	{
+		return INDEX_byLongColumn; 
+	}
+
+	public static int zGetIndexbyDoubleColumnRef() 
+	{
+		return INDEX_byDoubleColumn; 
+	}
+
+	public static int zGetIndexbyCharColumnRef() 
+	{
+		return INDEX_byCharColumn; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = doubleColumn();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.VariousTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
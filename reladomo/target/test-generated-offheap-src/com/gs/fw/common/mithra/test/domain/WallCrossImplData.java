@@ -0,0 +1,379 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class WallCrossImplData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private int entityid;
+	private byte[] listId;
+	private String wallCrosserEmplid;
+	public boolean isListIdNull()
+	{
+		return this.getListId() == null;
+	}
+
+	public boolean isWallCrosserEmplidNull()
+	{
+		return this.getWallCrosserEmplid() == null;
+	}
+
+	public boolean isEntityidNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.entityid);
+		if (listId == null) out.writeInt(-1); else 
+		{
+			out.writeInt(listId.length); out.write(listId); 
+		}
+
+		;
+		out.writeObject(this.wallCrosserEmplid);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public int getEntityid()
+	{
+		return this.entityid;
+	}
+
+	public void setEntityid(int value)
+	{
+		this.entityid = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public byte[] getListId()
+	{
+		return this.listId;
+	}
+
+	public void setListId(byte[] value)
+	{
+		this.listId = value;
+	}
+
+	public void setListIdNull()
+	{
+		this.setListId(null);
+	}
+
+	public String getWallCrosserEmplid()
+	{
+		return this.wallCrosserEmplid;
+	}
+
+	public int zGetWallCrosserEmplidAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(wallCrosserEmplid);
+	}
+
+	public void setWallCrosserEmplid(String value)
+	{
+		this.wallCrosserEmplid = StringPool.getInstance().getOrAddToCache(value, WallCrossImplFinder.isFullCache());
+	}
+
+	public void setWallCrosserEmplidNull()
+	{
+		this.setWallCrosserEmplid(null);
+	}
+
+	public void setEntityidNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(WallCrossImplData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.entityid = this.entityid;
+		copy.listId = this.listId;
+		copy.wallCrosserEmplid = this.wallCrosserEmplid;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.entityid = in.readInt();
+		int _listIdLength = in.readInt(); if (_listIdLength == -1) listId = null; else 
+		{
+			listId = new byte[_listIdLength];in.readFully(listId);
+		}
+
+		;
+		this.wallCrosserEmplid = StringPool.getInstance().getOrAddToCache((String)in.readObject(), WallCrossImplFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final WallCrossImplData otherData = (WallCrossImplData) other;
+		if (!isListIdNull() ? !Arrays.equals(getListId(), otherData.getListId()) : !otherData.isListIdNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		if (listId == null) out.writeInt(-1); else 
+		{
+			out.writeInt(listId.length); out.write(listId); 
+		}
+
+		;
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		int _listIdLength = in.readInt(); if (_listIdLength == -1) listId = null; else 
+		{
+			listId = new byte[_listIdLength];in.readFully(listId);
+		}
+
+		;
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getListEntryContacts()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setListEntryContacts(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final WallCrossImplData wallCrossImplData = (WallCrossImplData) newData;
+		this.setEntityid(wallCrossImplData.getEntityid());
+		if (wallCrossImplData.isEntityidNull()) this.setEntityidNull();
+		this.setWallCrosserEmplid(wallCrossImplData.getWallCrosserEmplid());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final WallCrossImplData other = (WallCrossImplData) newData;
+		if ( isEntityidNull() != other.isEntityidNull() || getEntityid() != other.getEntityid())
+		{
+			return true;
+		}
+
+		if (!isWallCrosserEmplidNull() ? !getWallCrosserEmplid().equals(other.getWallCrosserEmplid()) : !other.isWallCrosserEmplidNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		WallCrossImplData copy = new WallCrossImplData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		WallCrossImplData copy = new WallCrossImplData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "listId: "+(""+getListId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.WallCrossImplData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return WallCrossImplFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return WallCrossImplFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.WallCrossImplData";
+	}
+}
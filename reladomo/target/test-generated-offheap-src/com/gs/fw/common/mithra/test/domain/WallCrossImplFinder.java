@@ -0,0 +1,747 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class WallCrossImplFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/WallCrossImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.WallCrossImpl";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.WallCrossImpl");
+	private static final WallCrossImplSingleFinder<WallCrossImpl, Object, WallCrossImpl> finder = new WallCrossImplSingleFinder<WallCrossImpl, Object, WallCrossImpl>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(WallCrossImplFinder.WallCrossImplRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("listId");
+		finderMethodMap.addNormalAttributeName("wallCrosserEmplid");
+		finderMethodMap.addNormalAttributeName("entityid");
+		finderMethodMap.addRelationshipName("listEntryContacts");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = WallCrossImplFinder.listId().constructEqualityMapper(ListEntryContactsImplFinder.listId());
+			result[1] = ListEntryContactsImplFinder.listId().constructEqualityMapper(WallCrossImplFinder.listId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static WallCrossImpl findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static WallCrossImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static WallCrossImplList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (WallCrossImplList) finder.findMany(operation);
+	}
+
+	public static WallCrossImplList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (WallCrossImplList) finder.findManyBypassCache(operation);
+	}
+
+	private static WallCrossImpl findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (WallCrossImpl) FinderUtils.findOne(found);
+	}
+
+	public static WallCrossImpl findByPrimaryKey(byte[] listId)
+	{
+		return finder.findByPrimaryKey(listId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			WallCrossImplData _castedTargetData = (WallCrossImplData) _targetData;
+			if (Arrays.equals(_bean.getO1AsByteArray(), _castedTargetData.getListId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsByteArray());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsByteArray());
+		}
+	}
+
+	public static WallCrossImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (WallCrossImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class WallCrossImplRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<WallCrossImpl, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private ByteArrayAttribute<ParentOwnerType> listId;
+		private StringAttribute<ParentOwnerType> wallCrosserEmplid;
+		private IntegerAttribute<ParentOwnerType> entityid;
+		private WallCrossImplListEntryContactsFinderSubclass<ParentOwnerType> listEntryContacts;
+		public WallCrossImplRelatedFinder()
+		{
+			super();
+		}
+
+		public WallCrossImplRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.WallCrossImplFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return WallCrossImplFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return WallCrossImplFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return WallCrossImplFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.listId();
+			attributes[1] = this.wallCrosserEmplid();
+			attributes[2] = this.entityid();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.listEntryContacts());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public WallCrossImpl findOne(com.gs.fw.finder.Operation operation)
+		{
+			return WallCrossImplFinder.findOne(operation, false);
+		}
+
+		public WallCrossImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return WallCrossImplFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends WallCrossImpl> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new WallCrossImplList((Operation) operation);
+		}
+
+		public MithraList<? extends WallCrossImpl> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			WallCrossImplList result = (WallCrossImplList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends WallCrossImpl> constructEmptyList()
+		{
+			return new WallCrossImplList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1915478483;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public ByteArrayAttribute<ParentOwnerType> listId()
+		{
+			ByteArrayAttribute<ParentOwnerType> result = this.listId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteArrayAttribute.generate("LIST_ID","","listId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,12, false) :
+					new MappedByteArrayAttribute(WallCrossImplFinder.listId(), this.mapper, this.zGetValueSelector());
+				this.listId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> wallCrosserEmplid()
+		{
+			StringAttribute<ParentOwnerType> result = this.wallCrosserEmplid;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("WALL_CROSSER_EMPLID","","wallCrosserEmplid",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,11,true, false) :
+					new MappedStringAttribute(WallCrossImplFinder.wallCrosserEmplid(), this.mapper, this.zGetValueSelector());
+				this.wallCrosserEmplid = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> entityid()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.entityid;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ENTITYID","","entityid",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(WallCrossImplFinder.entityid(), this.mapper, this.zGetValueSelector());
+				this.entityid = result;
+			}
+
+			return result;
+		}
+
+		public ListEntryContactsImplFinder.ListEntryContactsImplCollectionFinderForRelatedClasses<ParentOwnerType, ListEntryContactsImplList, WallCrossImpl> listEntryContacts()
+		{
+			WallCrossImplListEntryContactsFinderSubclass<ParentOwnerType> result = this.listEntryContacts;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(WallCrossImplFinder.zGetWallCrossImplListEntryContactsReverseMapper());
+				newMapper.setToMany(true);
+				result = new WallCrossImplListEntryContactsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.listEntryContacts = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return WallCrossImplFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return WallCrossImplFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class WallCrossImplCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends WallCrossImplRelatedFinder<ParentOwnerType, ReturnType, WallCrossImplList, OwnerType>
+	{
+		public WallCrossImplCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class WallCrossImplCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends WallCrossImplCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public WallCrossImplCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class WallCrossImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends WallCrossImplRelatedFinder<ParentOwnerType, ReturnType, WallCrossImplList, OwnerType>
+	implements ToOneFinder
+	{
+		public WallCrossImplSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public WallCrossImplSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(WallCrossImpl other)
+		{
+			return this.listId().eq(other.getListId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public WallCrossImpl findByPrimaryKey(byte[] listId)
+		{
+			WallCrossImpl _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (listId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(listId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (WallCrossImpl) _related;
+			if (_related == null)
+			{
+				_op = this.listId().eq(listId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class WallCrossImplSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends WallCrossImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public WallCrossImplSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper listEntryContactsReverseMapper = null;
+	public static Mapper zGetWallCrossImplListEntryContactsReverseMapper()
+	{
+		if (listEntryContactsReverseMapper == null)
+		{
+			listEntryContactsReverseMapper = zConstructWallCrossImplListEntryContactsReverseMapper();
+		}
+
+		return listEntryContactsReverseMapper;
+	}
+
+	private static Mapper listEntryContactsMapper = null;
+	public static Mapper zGetWallCrossImplListEntryContactsMapper()
+	{
+		if (listEntryContactsMapper == null)
+		{
+			listEntryContactsMapper = zConstructWallCrossImplListEntryContactsMapper();
+		}
+
+		return listEntryContactsMapper;
+	}
+
+	private static Mapper listEntryContactsPureReverseMapper = null;
+	public static Mapper zGetWallCrossImplListEntryContactsPureReverseMapper()
+	{
+		if (listEntryContactsPureReverseMapper == null)
+		{
+			listEntryContactsPureReverseMapper = zConstructWallCrossImplListEntryContactsPureReverseMapper();
+		}
+
+		return listEntryContactsPureReverseMapper;
+	}
+
+	private static Mapper zConstructWallCrossImplListEntryContactsPureReverseMapper()
+	{
+		Mapper listEntryContactsMapper = WallCrossImplFinder.zGetConstantJoin(0);
+		listEntryContactsMapper.setName("listEntryContacts");
+		return listEntryContactsMapper;
+	}
+
+	private static Mapper zConstructWallCrossImplListEntryContactsReverseMapper()
+	{
+		Mapper listEntryContactsMapper = WallCrossImplFinder.zGetConstantJoin(0);
+		listEntryContactsMapper.setName("listEntryContacts");
+		return listEntryContactsMapper;
+	}
+
+	private static Mapper zConstructWallCrossImplListEntryContactsMapper()
+	{
+		Mapper listEntryContactsMapper = WallCrossImplFinder.zGetConstantJoin(1);
+		listEntryContactsMapper.setName("WallCrossImpl");
+		return listEntryContactsMapper;
+	}
+
+	/** maps to WALL_CROSS.LIST_ID **/
+	public static ByteArrayAttribute<WallCrossImpl> listId()
+	{
+		return finder.listId();
+	}
+
+	/** maps to WALL_CROSS.WALL_CROSSER_EMPLID **/
+	public static StringAttribute<WallCrossImpl> wallCrosserEmplid()
+	{
+		return finder.wallCrosserEmplid();
+	}
+
+	/** maps to WALL_CROSS.ENTITYID **/
+	public static IntegerAttribute<WallCrossImpl> entityid()
+	{
+		return finder.entityid();
+	}
+
+	public static ListEntryContactsImplFinder.ListEntryContactsImplCollectionFinderForRelatedClasses<WallCrossImpl, ListEntryContactsImplList, WallCrossImpl> listEntryContacts()
+	{
+		return finder.listEntryContacts();
+	}
+
+	public static class WallCrossImplListEntryContactsFinderSubclass<ParentOwnerType> extends ListEntryContactsImplFinder.ListEntryContactsImplCollectionFinderForRelatedClasses<ParentOwnerType, ListEntryContactsImplList, WallCrossImpl>
+	{
+		public WallCrossImplListEntryContactsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "listEntryContacts";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new WallCrossImplListEntryContactsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ListEntryContactsImplList plainValueOf(WallCrossImpl _obj)
+		{
+			return _obj.getListEntryContacts();
+		}
+
+		protected ListEntryContactsImplList plainListValueOf(Object _obj)
+		{
+			return ((WallCrossImplList)_obj).getListEntryContacts();
+		}
+	}
+
+	public static Operation eq(WallCrossImpl other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(listId());
+	}
+
+	public static WallCrossImplSingleFinder<WallCrossImpl, Object, WallCrossImpl> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			listId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			listId()
+			, listId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.WallCrossImpl");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,156 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class WallCrossImplListAbstract extends DelegatingList<WallCrossImpl> implements MithraTransactionalList<WallCrossImpl>
+{
+	public WallCrossImplListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public WallCrossImplListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public WallCrossImplListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public WallCrossImplListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public WallCrossImpl[] elements()
+	{
+		WallCrossImpl[] result = new WallCrossImpl[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public WallCrossImplList intersection(WallCrossImplList another)
+	{
+		return (WallCrossImplList)super.intersection(another);
+	}
+
+	public WallCrossImpl getWallCrossImplAt(int index)
+	{
+		return (WallCrossImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ListEntryContactsImpl.listId=this.listId</pre>
+	* @see ListEntryContactsImpl#getWallCrossImpl() reverse relationship ListEntryContactsImpl.getWallCrossImpl()
+	* @return list entry contacts
+	*/
+	public ListEntryContactsImplList getListEntryContacts()
+	{
+		return (ListEntryContactsImplList) this.zGetDelegated().resolveRelationship(this, WallCrossImplFinder.listEntryContacts());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return WallCrossImplFinder.getMithraObjectPortal();
+	}
+
+	public WallCrossImplList getNonPersistentCopy()
+	{
+		WallCrossImplList result = new WallCrossImplList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public WallCrossImplList asAdhoc()
+	{
+		return (WallCrossImplList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<WallCrossImpl> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public WallCrossImplList merge(MithraTransactionalList<WallCrossImpl> incoming, TopLevelMergeOptions<WallCrossImpl> mergeOptions)
+	{
+		return (WallCrossImplList) super.merge(incoming, mergeOptions);
+	}
+
+	public WallCrossImplList getDetachedCopy()
+	{
+		WallCrossImplList result = new WallCrossImplList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setListId(byte[] newValue)
+	{
+		zSetByteArray(WallCrossImplFinder.listId(), newValue);
+	}
+
+	public void setWallCrosserEmplid(String newValue)
+	{
+		zSetString(WallCrossImplFinder.wallCrosserEmplid(), newValue);
+	}
+
+	public void setEntityid(int newValue)
+	{
+		zSetInteger(WallCrossImplFinder.entityid(), newValue);
+	}
+
+	public void setEntityidNull()
+	{
+		zSetAttributeNull(WallCrossImplFinder.entityid());
+	}
+}
@@ -0,0 +1,981 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class WishListItemFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/WishListItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.WishListItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.WishListItem");
+	private static final WishListItemSingleFinder<WishListItem, Object, WishListItem> finder = new WishListItemSingleFinder<WishListItem, Object, WishListItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(WishListItemFinder.WishListItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("itemId");
+		finderMethodMap.addNormalAttributeName("saleId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("manufacturerId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addRelationshipName("productSpecs");
+		finderMethodMap.addRelationshipName("manufacturers");
+		finderMethodMap.addRelationshipName("sale");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = WishListItemFinder.productId().constructEqualityMapper(ProductSpecificationFinder.productId());
+			result[1] = ProductSpecificationFinder.productId().constructEqualityMapper(WishListItemFinder.productId());
+			result[2] = WishListItemFinder.manufacturerId().constructEqualityMapper(ManufacturerFinder.manufacturerId());
+			result[3] = ManufacturerFinder.manufacturerId().constructEqualityMapper(WishListItemFinder.manufacturerId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static WishListItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static WishListItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static WishListItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (WishListItemList) finder.findMany(operation);
+	}
+
+	public static WishListItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (WishListItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static WishListItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (WishListItem) FinderUtils.findOne(found);
+	}
+
+	public static WishListItem findByPrimaryKey(int itemId)
+	{
+		return finder.findByPrimaryKey(itemId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			WishListItemData _castedTargetData = (WishListItemData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getItemId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static WishListItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (WishListItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class WishListItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<WishListItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> itemId;
+		private IntegerAttribute<ParentOwnerType> saleId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private IntegerAttribute<ParentOwnerType> manufacturerId;
+		private IntegerAttribute<ParentOwnerType> quantity;
+		private WishListItemProductSpecsFinderSubclass<ParentOwnerType> productSpecs;
+		private WishListItemManufacturersFinderSubclass<ParentOwnerType> manufacturers;
+		private WishListItemSaleFinderSubclass<ParentOwnerType> sale;
+		public WishListItemRelatedFinder()
+		{
+			super();
+		}
+
+		public WishListItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.WishListItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return WishListItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return WishListItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return WishListItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.itemId();
+			attributes[1] = this.saleId();
+			attributes[2] = this.productId();
+			attributes[3] = this.manufacturerId();
+			attributes[4] = this.quantity();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.productSpecs());
+				relatedFinders.add(this.manufacturers());
+				relatedFinders.add(this.sale());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public WishListItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return WishListItemFinder.findOne(operation, false);
+		}
+
+		public WishListItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return WishListItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends WishListItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new WishListItemList((Operation) operation);
+		}
+
+		public MithraList<? extends WishListItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			WishListItemList result = (WishListItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends WishListItem> constructEmptyList()
+		{
+			return new WishListItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 67819835;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> itemId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.itemId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ITEM_ID","","itemId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(WishListItemFinder.itemId(), this.mapper, this.zGetValueSelector());
+				this.itemId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> saleId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.saleId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SALE_ID","","saleId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(WishListItemFinder.saleId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("sale");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Sale", "wishListItems");
+				this.saleId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(WishListItemFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("productSpecs");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> manufacturerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.manufacturerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("MANUFACTURER_ID","","manufacturerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(WishListItemFinder.manufacturerId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("manufacturers");
+				this.manufacturerId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> quantity()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(WishListItemFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public ProductSpecificationFinder.ProductSpecificationSingleFinderForRelatedClasses<ParentOwnerType, ProductSpecification, WishListItem> productSpecs()
+		{
+			WishListItemProductSpecsFinderSubclass<ParentOwnerType> result = this.productSpecs;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(WishListItemFinder.zGetWishListItemProductSpecsReverseMapper());
+				newMapper.setToMany(false);
+				result = new WishListItemProductSpecsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productSpecs = result;
+			}
+
+			return result;
+		}
+
+		public ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<ParentOwnerType, Manufacturer, WishListItem> manufacturers()
+		{
+			WishListItemManufacturersFinderSubclass<ParentOwnerType> result = this.manufacturers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(WishListItemFinder.zGetWishListItemManufacturersReverseMapper());
+				newMapper.setToMany(false);
+				result = new WishListItemManufacturersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.manufacturers = result;
+			}
+
+			return result;
+		}
+
+		public SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, WishListItem> sale()
+		{
+			WishListItemSaleFinderSubclass<ParentOwnerType> result = this.sale;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SaleFinder.zGetSaleWishListItemsMapper());
+				newMapper.setToMany(false);
+				result = new WishListItemSaleFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.sale = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return WishListItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return WishListItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class WishListItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends WishListItemRelatedFinder<ParentOwnerType, ReturnType, WishListItemList, OwnerType>
+	{
+		public WishListItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class WishListItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends WishListItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public WishListItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class WishListItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends WishListItemRelatedFinder<ParentOwnerType, ReturnType, WishListItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public WishListItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public WishListItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(WishListItem other)
+		{
+			return this.itemId().eq(other.getItemId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public WishListItem findByPrimaryKey(int itemId)
+		{
+			WishListItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(itemId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (WishListItem) _related;
+			if (_related == null)
+			{
+				_op = this.itemId().eq(itemId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class WishListItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends WishListItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public WishListItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productSpecsReverseMapper = null;
+	public static Mapper zGetWishListItemProductSpecsReverseMapper()
+	{
+		if (productSpecsReverseMapper == null)
+		{
+			productSpecsReverseMapper = zConstructWishListItemProductSpecsReverseMapper();
+		}
+
+		return productSpecsReverseMapper;
+	}
+
+	private static Mapper productSpecsMapper = null;
+	public static Mapper zGetWishListItemProductSpecsMapper()
+	{
+		if (productSpecsMapper == null)
+		{
+			productSpecsMapper = zConstructWishListItemProductSpecsMapper();
+		}
+
+		return productSpecsMapper;
+	}
+
+	private static Mapper productSpecsPureReverseMapper = null;
+	public static Mapper zGetWishListItemProductSpecsPureReverseMapper()
+	{
+		if (productSpecsPureReverseMapper == null)
+		{
+			productSpecsPureReverseMapper = zConstructWishListItemProductSpecsPureReverseMapper();
+		}
+
+		return productSpecsPureReverseMapper;
+	}
+
+	private static Mapper zConstructWishListItemProductSpecsPureReverseMapper()
+	{
+		Mapper productSpecsMapper = WishListItemFinder.zGetConstantJoin(0);
+		productSpecsMapper.setName("productSpecs");
+		return productSpecsMapper;
+	}
+
+	private static Mapper zConstructWishListItemProductSpecsReverseMapper()
+	{
+		Mapper productSpecsMapper = WishListItemFinder.zGetConstantJoin(0);
+		productSpecsMapper.setName("productSpecs");
+		return productSpecsMapper;
+	}
+
+	private static Mapper zConstructWishListItemProductSpecsMapper()
+	{
+		Mapper productSpecsMapper = WishListItemFinder.zGetConstantJoin(1);
+		productSpecsMapper.setName("productSpecs_Reverse");
+		return productSpecsMapper;
+	}
+
+	private static Mapper manufacturersReverseMapper = null;
+	public static Mapper zGetWishListItemManufacturersReverseMapper()
+	{
+		if (manufacturersReverseMapper == null)
+		{
+			manufacturersReverseMapper = zConstructWishListItemManufacturersReverseMapper();
+		}
+
+		return manufacturersReverseMapper;
+	}
+
+	private static Mapper manufacturersMapper = null;
+	public static Mapper zGetWishListItemManufacturersMapper()
+	{
+		if (manufacturersMapper == null)
+		{
+			manufacturersMapper = zConstructWishListItemManufacturersMapper();
+		}
+
+		return manufacturersMapper;
+	}
+
+	private static Mapper manufacturersPureReverseMapper = null;
+	public static Mapper zGetWishListItemManufacturersPureReverseMapper()
+	{
+		if (manufacturersPureReverseMapper == null)
+		{
+			manufacturersPureReverseMapper = zConstructWishListItemManufacturersPureReverseMapper();
+		}
+
+		return manufacturersPureReverseMapper;
+	}
+
+	private static Mapper zConstructWishListItemManufacturersPureReverseMapper()
+	{
+		Mapper manufacturersMapper = WishListItemFinder.zGetConstantJoin(2);
+		manufacturersMapper.setName("manufacturers");
+		return manufacturersMapper;
+	}
+
+	private static Mapper zConstructWishListItemManufacturersReverseMapper()
+	{
+		Mapper manufacturersMapper = WishListItemFinder.zGetConstantJoin(2);
+		manufacturersMapper.setName("manufacturers");
+		return manufacturersMapper;
+	}
+
+	private static Mapper zConstructWishListItemManufacturersMapper()
+	{
+		Mapper manufacturersMapper = WishListItemFinder.zGetConstantJoin(3);
+		manufacturersMapper.setName("manufacturers_Reverse");
+		return manufacturersMapper;
+	}
+
+	/** maps to WISH_LIST_ITEM.ITEM_ID **/
+	public static IntegerAttribute<WishListItem> itemId()
+	{
+		return finder.itemId();
+	}
+
+	/** maps to WISH_LIST_ITEM.SALE_ID **/
+	public static IntegerAttribute<WishListItem> saleId()
+	{
+		return finder.saleId();
+	}
+
+	/** maps to WISH_LIST_ITEM.PRODUCT_ID **/
+	public static IntegerAttribute<WishListItem> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to WISH_LIST_ITEM.MANUFACTURER_ID **/
+	public static IntegerAttribute<WishListItem> manufacturerId()
+	{
+		return finder.manufacturerId();
+	}
+
+	/** maps to WISH_LIST_ITEM.QUANTITY **/
+	public static IntegerAttribute<WishListItem> quantity()
+	{
+		return finder.quantity();
+	}
+
+	public static ProductSpecificationFinder.ProductSpecificationSingleFinderForRelatedClasses<WishListItem, ProductSpecification, WishListItem> productSpecs()
+	{
+		return finder.productSpecs();
+	}
+
+	public static class WishListItemProductSpecsFinderSubclass<ParentOwnerType> extends ProductSpecificationFinder.ProductSpecificationSingleFinderForRelatedClasses<ParentOwnerType, ProductSpecification, WishListItem>
+	{
+		public WishListItemProductSpecsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productSpecs";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new WishListItemProductSpecsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductSpecification plainValueOf(WishListItem _obj)
+		{
+			return _obj.getProductSpecs();
+		}
+
+		protected ProductSpecificationList plainListValueOf(Object _obj)
+		{
+			return ((WishListItemList)_obj).getProductSpecs();
+		}
+	}
+
+	public static ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<WishListItem, Manufacturer, WishListItem> manufacturers()
+	{
+		return finder.manufacturers();
+	}
+
+	public static class WishListItemManufacturersFinderSubclass<ParentOwnerType> extends ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<ParentOwnerType, Manufacturer, WishListItem>
+	{
+		public WishListItemManufacturersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "manufacturers";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new WishListItemManufacturersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Manufacturer plainValueOf(WishListItem _obj)
+		{
+			return _obj.getManufacturers();
+		}
+
+		protected ManufacturerList plainListValueOf(Object _obj)
+		{
+			return ((WishListItemList)_obj).getManufacturers();
+		}
+	}
+
+	public static SaleFinder.SaleSingleFinderForRelatedClasses<WishListItem, Sale, WishListItem> sale()
+	{
+		return finder.sale();
+	}
+
+	public static class WishListItemSaleFinderSubclass<ParentOwnerType> extends SaleFinder.SaleSingleFinderForRelatedClasses<ParentOwnerType, Sale, WishListItem>
+	{
+		public WishListItemSaleFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "sale";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new WishListItemSaleFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Sale plainValueOf(WishListItem _obj)
+		{
+			return _obj.getSale();
+		}
+
+		protected SaleList plainListValueOf(Object _obj)
+		{
+			return ((WishListItemList)_obj).getSales();
+		}
+	}
+
+	public static Operation eq(WishListItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(itemId());
+	}
+
+	public static WishListItemSingleFinder<WishListItem, Object, WishListItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			itemId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			itemId()
+			, itemId()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			saleId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			manufacturerId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ManufacturerFinder.getFinderInstance(),ProductSpecificationFinder.getFinderInstance(),SaleFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ManufacturerFinder.getFinderInstance(),ProductSpecificationFinder.getFinderInstance(),SaleFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.WishListItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,734 @@
+package com.gs.fw.common.mithra.test.domain.adjustmenthistory;
+import com.gs.fw.common.mithra.test.domain.Account;
+import com.gs.fw.common.mithra.test.domain.AccountAbstract;
+import com.gs.fw.common.mithra.test.domain.AccountData;
+import com.gs.fw.common.mithra.test.domain.AccountFinder;
+import com.gs.fw.common.mithra.test.domain.AccountList;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class PositionAdjustmentHistoryAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy forpositionQuantity = new PositionQuantityRhs();
+	private static final class PositionQuantityRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = PositionQuantityFinder.businessDate();
+		private AsOfAttribute processingDate = PositionQuantityFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PositionAdjustmentHistory _castedSrcObject = (PositionAdjustmentHistory) _srcObject;
+			PositionQuantityData _castedTargetData = (PositionQuantityData) _targetData;
+			if (!_castedSrcObject.isAccountIdNull() && _castedSrcObject.getAccountId().equals(_castedTargetData.getAccountId()) && !_castedSrcObject.isProductIdNull() && _castedSrcObject.getProductId() == _castedTargetData.getProductId() && _castedSrcObject.getAcmapCode()!= null && _castedSrcObject.getAcmapCode().equals(_castedTargetData.getAcmapCode()) && ((_castedTargetData.getPositionType() == 1800)))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PositionAdjustmentHistory _castedSrcObject = (PositionAdjustmentHistory) _srcObject;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getAccountId()),HashUtil.hash(_castedSrcObject.getProductId(), _castedSrcObject.isProductIdNull())),HashUtil.hash(1800)),HashUtil.hash(_castedSrcObject.getAcmapCode()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PositionAdjustmentHistory _castedSrcObject = (PositionAdjustmentHistory) _srcObject;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_castedSrcObject.getAccountId()),HashUtil.hash(_castedSrcObject.getProductId(), _castedSrcObject.isProductIdNull())),HashUtil.hash(1800)),HashUtil.offHeapHash(_castedSrcObject.getAcmapCode()));
+		}
+	}
+
+	private byte isNullBits0 = 0;
+	private String accountId;
+	private String acmapCode;
+	private double adjustmentDelta;
+	private int adjustmentTypeId;
+	private Timestamp businessDate;
+	private String comment;
+	private Timestamp entryDate;
+	private double originalValue;
+	private int productId;
+	private long referenceId;
+	private String userId;
+	public boolean isAccountIdNull()
+	{
+		return this.getAccountId() == null;
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return this.getBusinessDate() == null;
+	}
+
+	public boolean isCommentNull()
+	{
+		return this.getComment() == null;
+	}
+
+	public boolean isEntryDateNull()
+	{
+		return this.getEntryDate() == null;
+	}
+
+	public boolean isReferenceIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.getUserId() == null;
+	}
+
+	public boolean isAdjustmentTypeIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isOriginalValueNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isAdjustmentDeltaNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountId);
+		out.writeObject(this.acmapCode);
+		out.writeDouble(this.adjustmentDelta);
+		out.writeInt(this.adjustmentTypeId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+		out.writeObject(this.comment);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.entryDate);
+		out.writeDouble(this.originalValue);
+		out.writeInt(this.productId);
+		out.writeLong(this.referenceId);
+		out.writeObject(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		PositionAdjustmentHistoryData data = new PositionAdjustmentHistoryData();
+		data.setAccountId(accountId);
+		data.setAcmapCode(acmapCode);
+		data.setAdjustmentDelta(adjustmentDelta);
+		data.setAdjustmentTypeId(adjustmentTypeId);
+		data.setBusinessDate(businessDate);
+		data.setComment(comment);
+		data.setEntryDate(entryDate);
+		data.setOriginalValue(originalValue);
+		data.setProductId(productId);
+		data.setReferenceId(referenceId);
+		data.setUserId(userId);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public PositionAdjustmentHistory getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		PositionAdjustmentHistoryAbstract copy = (PositionAdjustmentHistoryAbstract) PositionAdjustmentHistoryFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (PositionAdjustmentHistory)copy;
+	}
+
+	protected void zSetFromPositionAdjustmentHistoryData(PositionAdjustmentHistoryData data)
+	{
+		this.setFromPositionAdjustmentHistoryData(data);
+	}
+
+	public void setFromPositionAdjustmentHistoryData(PositionAdjustmentHistoryData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		accountId = data.getAccountId();
+		acmapCode = data.getAcmapCode();
+		adjustmentDelta = data.getAdjustmentDelta();
+		adjustmentTypeId = data.getAdjustmentTypeId();
+		businessDate = data.getBusinessDate();
+		comment = data.getComment();
+		entryDate = data.getEntryDate();
+		originalValue = data.getOriginalValue();
+		productId = data.getProductId();
+		referenceId = data.getReferenceId();
+		userId = data.getUserId();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PositionAdjustmentHistoryFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromPositionAdjustmentHistoryData((PositionAdjustmentHistoryData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public void setAccountId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.accountId = StringPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache());
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache());
+	}
+
+	public double getAdjustmentDelta()
+	{
+		if (isAdjustmentDeltaNull()) throwNullPrimitiveException("adjustmentDelta");
+		return this.adjustmentDelta;
+	}
+
+	public void setAdjustmentDelta(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.adjustmentDelta = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getAdjustmentTypeId()
+	{
+		if (isAdjustmentTypeIdNull()) throwNullPrimitiveException("adjustmentTypeId");
+		return this.adjustmentTypeId;
+	}
+
+	public void setAdjustmentTypeId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.adjustmentTypeId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public void setBusinessDate(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache());
+	}
+
+	public String getComment()
+	{
+		return this.comment;
+	}
+
+	public void setComment(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.comment = StringPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache());
+	}
+
+	public Timestamp getEntryDate()
+	{
+		return this.entryDate;
+	}
+
+	public void setEntryDate(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.entryDate = TimestampPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache());
+	}
+
+	public double getOriginalValue()
+	{
+		if (isOriginalValueNull()) throwNullPrimitiveException("originalValue");
+		return this.originalValue;
+	}
+
+	public void setOriginalValue(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.originalValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getProductId()
+	{
+		if (isProductIdNull()) throwNullPrimitiveException("productId");
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.productId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public long getReferenceId()
+	{
+		return this.referenceId;
+	}
+
+	public void setReferenceId(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.referenceId = value;
+	}
+
+	public String getUserId()
+	{
+		return this.userId;
+	}
+
+	public void setUserId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.userId = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setAdjustmentTypeIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setProductIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setOriginalValueNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setAdjustmentDeltaNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PositionQuantity.accountId = this.accountId and PositionQuantity.productId = this.productId and PositionQuantity.positionType = 1800 and PositionQuantity.businessDate = this.businessDate</pre>
+	* @see PositionQuantity#getAdjustmentHistory1800() reverse relationship PositionQuantity.getAdjustmentHistory1800()
+	* @return The position quantity
+	*/
+	public PositionQuantity getPositionQuantity()
+	{
+		PositionQuantity _result = null;
+		if (_relationships != null)
+		{
+			_result = (PositionQuantity)(_relationships[2]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if ((!this.isAccountIdNull()) && (!this.isProductIdNull()) && (!this.isBusinessDateNull()))
+			{
+				_portal = PositionQuantityFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forpositionQuantity,this.getBusinessDate(),com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+				if (!(_related instanceof NulledRelation)) _result = (PositionQuantity) _related;
+				if (_related == null)
+				{
+					_result = PositionQuantityFinder.zFindOneForRelationship(zGetPositionQuantityOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PositionQuantity.accountId = this.accountId and PositionQuantity.businessDate = this.businessDate</pre>
+	* @return position quantities without type
+	*/
+	public PositionQuantityList getPositionQuantitiesWithoutType()
+	{
+		PositionQuantityList _result = null;
+		if (_relationships != null)
+		{
+			_result = (PositionQuantityList)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			if ((!this.isAccountIdNull()) && (!this.isBusinessDateNull()))
+			{
+				{
+					_result = new PositionQuantityList(zGetPositionQuantitiesWithoutTypeOperation());
+					_result.zSetForRelationship();
+				}
+			}
+			else 
+			{
+				_result = new PositionQuantityList( new None (
+					PositionQuantityFinder.accountId())
+				);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PositionQuantity.accountId = this.accountId
+	and PositionQuantity.productId = this.productId and PositionQuantity.positionType = 1800 and PositionQuantity.businessDate = this.businessDate
+	and PositionQuantity.accountId = Account.accountNumber and PositionQuantity.acmapCode = Account.deskId</pre>
+	* @return The account from contract
+	*/
+	public Account getAccountFromContract()
+	{
+		Account _result = null;
+		if (_relationships != null)
+		{
+			_result = (Account)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			if ((!this.isAccountIdNull()) && (!this.isProductIdNull()) && (!this.isBusinessDateNull()))
+			{
+				{
+					_result = AccountFinder.zFindOneForRelationship(zGetAccountFromContractOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	public void setPositionQuantity(PositionQuantity positionQuantity)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[2] = positionQuantity;
+		if (positionQuantity == null)
+		{
+			this.setAccountId(null);
+			this.setProductIdNull();
+			this.setBusinessDate(null);
+			this.setAcmapCode(null);
+		}
+		else
+		{
+			this.setAccountId(positionQuantity.getAccountId());
+			this.setProductId(positionQuantity.getProductId());
+			this.setBusinessDate(positionQuantity.getBusinessDate());
+			this.setAcmapCode(positionQuantity.getAcmapCode());
+		}
+	}
+
+	public void setPositionQuantitiesWithoutType(PositionQuantityList positionQuantitiesWithoutType)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[1] = positionQuantitiesWithoutType;
+	}
+
+	public void setAccountFromContract(Account accountFromContract)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[0] = accountFromContract;
+	}
+
+	public Operation zGetPositionQuantityOperation()
+	{
+		PositionAdjustmentHistoryAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(PositionAdjustmentHistoryFinder.positionQuantity().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetPositionQuantitiesWithoutTypeOperation()
+	{
+		PositionAdjustmentHistoryAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(PositionAdjustmentHistoryFinder.positionQuantitiesWithoutType().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetAccountFromContractOperation()
+	{
+		PositionAdjustmentHistoryAbstract _data = this;
+		return new MappedOperation(PositionAdjustmentHistoryFinder.zGetAccountFromContractMapperFragment(), PositionQuantityFinder.accountId().eq(_data.getAccountId()).and(PositionQuantityFinder.productId().eq(_data.getProductId())).and(PositionQuantityFinder.businessDate().eq(_data.getBusinessDate())).and(PositionQuantityFinder.acmapCode().eq(_data.getAcmapCode())).and(PositionQuantityFinder.zGetConstantOperation(0)));
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final PositionAdjustmentHistoryData positionAdjustmentHistoryData = (PositionAdjustmentHistoryData) newData;
+		if (isNullBits0 != positionAdjustmentHistoryData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (!isAccountIdNull() ? !getAccountId().equals(positionAdjustmentHistoryData.getAccountId()) : !positionAdjustmentHistoryData.isAccountIdNull())
+		{
+			return true;
+		}
+
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(positionAdjustmentHistoryData.getAcmapCode()) : !positionAdjustmentHistoryData.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		if (adjustmentDelta != positionAdjustmentHistoryData.getAdjustmentDelta())
+		{
+			return true;
+		}
+
+		if (adjustmentTypeId != positionAdjustmentHistoryData.getAdjustmentTypeId())
+		{
+			return true;
+		}
+
+		if (!isBusinessDateNull() ? !getBusinessDate().equals(positionAdjustmentHistoryData.getBusinessDate()) : !positionAdjustmentHistoryData.isBusinessDateNull())
+		{
+			return true;
+		}
+
+		if (!isCommentNull() ? !getComment().equals(positionAdjustmentHistoryData.getComment()) : !positionAdjustmentHistoryData.isCommentNull())
+		{
+			return true;
+		}
+
+		if (!isEntryDateNull() ? !getEntryDate().equals(positionAdjustmentHistoryData.getEntryDate()) : !positionAdjustmentHistoryData.isEntryDateNull())
+		{
+			return true;
+		}
+
+		if (originalValue != positionAdjustmentHistoryData.getOriginalValue())
+		{
+			return true;
+		}
+
+		if (productId != positionAdjustmentHistoryData.getProductId())
+		{
+			return true;
+		}
+
+		if (!isUserIdNull() ? !getUserId().equals(positionAdjustmentHistoryData.getUserId()) : !positionAdjustmentHistoryData.isUserIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+		result += "referenceId: "+(""+getReferenceId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeLong(this.referenceId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PositionAdjustmentHistoryFinder.isFullCache());
+			this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PositionAdjustmentHistoryFinder.isFullCache());
+			this.adjustmentDelta = in.readDouble();
+			this.adjustmentTypeId = in.readInt();
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PositionAdjustmentHistoryFinder.isFullCache(), PositionAdjustmentHistoryFinder.isOffHeap());
+			this.comment = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PositionAdjustmentHistoryFinder.isFullCache());
+			this.entryDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PositionAdjustmentHistoryFinder.isFullCache(), PositionAdjustmentHistoryFinder.isOffHeap());
+			this.originalValue = in.readDouble();
+			this.productId = in.readInt();
+			this.referenceId = in.readLong();
+			this.userId = (String)in.readObject();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.referenceId = in.readLong();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = PositionAdjustmentHistoryFinder.referenceId().eq(this.getReferenceId());
+			return PositionAdjustmentHistoryFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,404 @@
+package com.gs.fw.common.mithra.test.domain.adjustmenthistory;
+import com.gs.fw.common.mithra.test.domain.Account;
+import com.gs.fw.common.mithra.test.domain.AccountAbstract;
+import com.gs.fw.common.mithra.test.domain.AccountData;
+import com.gs.fw.common.mithra.test.domain.AccountFinder;
+import com.gs.fw.common.mithra.test.domain.AccountList;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class PositionAdjustmentHistoryDatabaseObjectAbstract extends MithraAbstractDatabaseObject implements MithraDatabaseObject, MithraObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ACCT_N,ADJ_TYPE,PROD_I,USER_I,BUS_DATE,PROC_DATE,MEMO,OLD_AMOUNT,DELTA_AMOUNT";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ACCT_N,t0.ADJ_TYPE,t0.PROD_I,t0.USER_I,t0.BUS_DATE,t0.PROC_DATE,t0.MEMO,t0.OLD_AMOUNT,t0.DELTA_AMOUNT";
+	private static final String PK_WITH_ALIAS = "t0.ADJ_REF_I = ?";
+	private static final String PK_INDEX_COLS = "ADJ_REF_I";
+	protected PositionAdjustmentHistoryDatabaseObjectAbstract()
+	{
+		super("PositionAdjustmentHistory", "com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryFinder",
+			10, 10,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PositionAdjustmentHistoryFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return PositionAdjustmentHistoryFinder.getFinderInstance();
+	}
+
+	public static PositionAdjustmentHistoryData allocateOnHeapData()
+	{
+		return new PositionAdjustmentHistoryData();
+	}
+
+	public static PositionAdjustmentHistoryData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new PositionAdjustmentHistoryData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		PositionAdjustmentHistoryData data = new PositionAdjustmentHistoryData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new FullNonDatedCache(PositionAdjustmentHistoryFinder.getPrimaryKeyAttributes(), this, PositionAdjustmentHistoryFinder.getImmutableAttributes());
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new PartialNonDatedCache(PositionAdjustmentHistoryFinder.getPrimaryKeyAttributes(), this, PositionAdjustmentHistoryFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			PositionAdjustmentHistoryFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			PositionAdjustmentHistoryFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		PositionAdjustmentHistoryData data = (PositionAdjustmentHistoryData)object;
+		return data.getAcmapCode();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflatePositionAdjustmentHistoryData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkPositionAdjustmentHistoryData(1, (PositionAdjustmentHistoryData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflatePositionAdjustmentHistoryPkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getPositionAdjustmentHistoryTableName(((String)source));
+	}
+
+	public String getPositionAdjustmentHistoryTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		PositionAdjustmentHistoryData data = (PositionAdjustmentHistoryData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setLong(pos++, data.getReferenceId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ADJ_REF_I = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ADJ_REF_I,t0.ACCT_N,t0.ADJ_TYPE,t0.PROD_I,t0.USER_I,t0.BUS_DATE,t0.PROC_DATE,t0.MEMO,t0.OLD_AMOUNT,t0.DELTA_AMOUNT";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*10);
+		result.append(databaseAlias).append(".").append("ADJ_REF_I");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_N");
+		result.append(",").append(databaseAlias).append(".").append("ADJ_TYPE");
+		result.append(",").append(databaseAlias).append(".").append("PROD_I");
+		result.append(",").append(databaseAlias).append(".").append("USER_I");
+		result.append(",").append(databaseAlias).append(".").append("BUS_DATE");
+		result.append(",").append(databaseAlias).append(".").append("PROC_DATE");
+		result.append(",").append(databaseAlias).append(".").append("MEMO");
+		result.append(",").append(databaseAlias).append(".").append("OLD_AMOUNT");
+		result.append(",").append(databaseAlias).append(".").append("DELTA_AMOUNT");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public PositionAdjustmentHistoryData inflatePositionAdjustmentHistoryData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		PositionAdjustmentHistoryData data = inflatePositionAdjustmentHistoryPkData(rs, dt, sourceAttribute);
+		inflateNonPkPositionAdjustmentHistoryData(2, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public PositionAdjustmentHistoryData inflatePositionAdjustmentHistoryPkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		PositionAdjustmentHistoryData _data = new PositionAdjustmentHistoryData();
+		int _pos = 1;
+		_data.setAcmapCode(sourceAttribute);
+		_data.setReferenceId(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "referenceId");
+		return _data;
+	}
+
+	public void inflateNonPkPositionAdjustmentHistoryData(int _pos, PositionAdjustmentHistoryData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			PositionAdjustmentHistoryData _data = _datax;
+			_data.setAccountId(trimString(_rs.getString(_pos++)));
+			_data.setAdjustmentTypeId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAdjustmentTypeIdNull();
+			}
+
+			_data.setProductId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProductIdNull();
+			}
+
+			_data.setUserId(trimString(_rs.getString(_pos++)));
+			Timestamp businessDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDate(businessDatetimestampValue);
+			Timestamp entryDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setEntryDate(entryDatetimestampValue);
+			_data.setComment(trimString(_rs.getString(_pos++)));
+			_data.setOriginalValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOriginalValueNull();
+			}
+
+			_data.setAdjustmentDelta(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAdjustmentDeltaNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TPOSADJHIST";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		PositionAdjustmentHistory newObject = new PositionAdjustmentHistory();
+		newObject.zSetFromPositionAdjustmentHistoryData((PositionAdjustmentHistoryData) newData);
+		return newObject;
+	}
+
+	public void analyzeChangeForReload(PrimaryKeyIndex fullUniqueIndex, MithraDataObject data, List newDataList, List updatedDataList)
+	{
+		PositionAdjustmentHistory object = fullUniqueIndex == null ? null : (PositionAdjustmentHistory) fullUniqueIndex.removeUsingUnderlying(data);
+		if (object == null)
+		{
+			newDataList.add(createObject(data));
+		}
+		else
+		{
+			if (object.zChanged(data))
+			{
+				updatedDataList.add(data);
+			}
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class Alarm2ListAbstract extends DelegatingList<Alarm2> implements MithraTransactionalList<Alarm2>
+{
+	public Alarm2ListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public Alarm2ListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public Alarm2ListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public Alarm2ListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Alarm2[] elements()
+	{
+		Alarm2[] result = new Alarm2[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public Alarm2List intersection(Alarm2List another)
+	{
+		return (Alarm2List)super.intersection(another);
+	}
+
+	public Alarm2 getAlarm2At(int index)
+	{
+		return (Alarm2)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return Alarm2Finder.getMithraObjectPortal();
+	}
+
+	public Alarm2List getNonPersistentCopy()
+	{
+		Alarm2List result = new Alarm2List();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public Alarm2List asAdhoc()
+	{
+		return (Alarm2List) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Alarm2> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public Alarm2List merge(MithraTransactionalList<Alarm2> incoming, TopLevelMergeOptions<Alarm2> mergeOptions)
+	{
+		return (Alarm2List) super.merge(incoming, mergeOptions);
+	}
+
+	public Alarm2List getDetachedCopy()
+	{
+		Alarm2List result = new Alarm2List();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(Alarm2Finder.id(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(Alarm2Finder.time(), newValue);
+	}
+
+	public void setTime2(Time newValue)
+	{
+		zSetTime(Alarm2Finder.time2(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(Alarm2Finder.description(), newValue);
+	}
+}
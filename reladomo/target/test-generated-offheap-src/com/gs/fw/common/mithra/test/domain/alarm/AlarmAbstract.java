@@ -0,0 +1,461 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AlarmAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Alarm.class.getName());
+	private static final RelationshipHashStrategy forcellphone = new CellphoneRhs();
+	private static final class CellphoneRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AlarmData _castedSrcData = (AlarmData) _srcData;
+			CellphoneData _castedTargetData = (CellphoneData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AlarmData _castedSrcData = (AlarmData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public AlarmAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Alarm getDetachedCopy() throws MithraBusinessException
+	{
+		return (Alarm) super.getDetachedCopy();
+	}
+
+	public Alarm getNonPersistentCopy() throws MithraBusinessException
+	{
+		Alarm result = (Alarm) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Alarm copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Alarm) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Alarm zFindOriginal()
+	{
+		AlarmData data = (AlarmData) this.currentData;
+		Operation op;
+		op = AlarmFinder.id().eq(data.getId());
+		return AlarmFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AlarmData();
+	}
+
+	protected void zSetFromAlarmData( AlarmData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAlarmData( AlarmData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((AlarmData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		AlarmData data = (AlarmData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 30: " + newValue);
+		zSetString(AlarmFinder.description(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((AlarmData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		AlarmData data = (AlarmData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isTimeNull()
+	{
+		return ((AlarmData) this.zSynchronizedGetData()).isTimeNull();
+	}
+
+	public Time getTime()
+	{
+		AlarmData data = (AlarmData) this.zSynchronizedGetData();
+		return data.getTime();
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmFinder.time(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AlarmData _newData = (AlarmData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AlarmData _newData = (AlarmData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AlarmData _newData = (AlarmData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = Cellphone.id</pre>
+	* @see Cellphone#getAlarm() reverse relationship Cellphone.getAlarm()
+	* @return The cellphone
+	*/
+	public Cellphone getCellphone()
+	{
+		Cellphone _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AlarmData _data = (AlarmData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = CellphoneFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forcellphone, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Cellphone) _related;
+				if (_related == null)
+				{
+					_op = CellphoneFinder.id().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getCellphone() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (Cellphone) _data.getCellphone();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = CellphoneFinder.id().eq(_data.getId());
+					_result = CellphoneFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (AlarmData) _behavior.getCurrentDataForWrite(this);
+				_data.setCellphone(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Cellphone) _data.getCellphone();
+			if (_result == null)
+			{
+				{
+					_op = CellphoneFinder.id().eq(_data.getId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = CellphoneFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setCellphone(Cellphone cellphone)
+	{
+		((Cellphone)cellphone).setAlarm((Alarm)this);
+	}
+
+	public void zSetParentContainercellphone(CellphoneAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AlarmData _data = (AlarmData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setCellphone(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.time = Cellphone2.time</pre>
+	* @see Cellphone2#getAlarms() reverse relationship Cellphone2.getAlarms()
+	* @return cellphones2
+	*/
+	public Cellphone2List getCellphones2()
+	{
+		Cellphone2List _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AlarmData _data = (AlarmData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isTimeNull())
+			{
+				{
+					_op = Cellphone2Finder.time().eq(_data.getTime());
+				}
+			}
+			else 
+			{
+				_result = new Cellphone2List( new None (
+					Cellphone2Finder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isTimeNull())
+				{
+					Operation detachedOp = Cellphone2Finder.time().eq(_data.getTime());
+					_result = new Cellphone2List(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new Cellphone2List( new None (
+						Cellphone2Finder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Cellphone2List) _data.getCellphones2();
+			if (_result == null)
+			{
+				if (!_data.isTimeNull())
+				{
+					_op = Cellphone2Finder.time().eq(_data.getTime());
+				}
+				else 
+				{
+					_result = new Cellphone2List( new None (
+						Cellphone2Finder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new Cellphone2List(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setCellphones2(Cellphone2List cellphones2)
+	{
+		Cellphone2List _cellphones2 = (Cellphone2List) cellphones2;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AlarmData _data = (AlarmData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setCellphones2(_cellphones2);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Alarm zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Alarm original = (Alarm) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AlarmFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AlarmFinder.getMithraObjectPortal();
+	}
+
+	public Alarm getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AlarmFinder.description(), false);
+		changed |= zUpdateTime(behavior, data, newData, AlarmFinder.time(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AlarmFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AlarmAbstract result = (AlarmAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,171 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.util.DefaultInfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AlarmBitemporalTransactionalIqListAbstract extends DelegatingList<AlarmBitemporalTransactionalIq> implements MithraDatedTransactionalList<AlarmBitemporalTransactionalIq>
+{
+	public AlarmBitemporalTransactionalIqListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AlarmBitemporalTransactionalIqListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AlarmBitemporalTransactionalIqListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AlarmBitemporalTransactionalIqListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AlarmBitemporalTransactionalIq[] elements()
+	{
+		AlarmBitemporalTransactionalIq[] result = new AlarmBitemporalTransactionalIq[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AlarmBitemporalTransactionalIqList intersection(AlarmBitemporalTransactionalIqList another)
+	{
+		return (AlarmBitemporalTransactionalIqList)super.intersection(another);
+	}
+
+	public AlarmBitemporalTransactionalIq getAlarmBitemporalTransactionalIqAt(int index)
+	{
+		return (AlarmBitemporalTransactionalIq)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AlarmBitemporalTransactionalIqFinder.getMithraObjectPortal();
+	}
+
+	public AlarmBitemporalTransactionalIqList getNonPersistentCopy()
+	{
+		AlarmBitemporalTransactionalIqList result = new AlarmBitemporalTransactionalIqList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AlarmBitemporalTransactionalIqList asAdhoc()
+	{
+		return (AlarmBitemporalTransactionalIqList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AlarmBitemporalTransactionalIq> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AlarmBitemporalTransactionalIqList merge(MithraTransactionalList<AlarmBitemporalTransactionalIq> incoming, TopLevelMergeOptions<AlarmBitemporalTransactionalIq> mergeOptions)
+	{
+		return (AlarmBitemporalTransactionalIqList) super.merge(incoming, mergeOptions);
+	}
+
+	public AlarmBitemporalTransactionalIqList getDetachedCopy()
+	{
+		AlarmBitemporalTransactionalIqList result = new AlarmBitemporalTransactionalIqList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmBitemporalTransactionalIqFinder.id(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmBitemporalTransactionalIqFinder.time(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AlarmBitemporalTransactionalIqFinder.description(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmBitemporalTransactionalIqFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmBitemporalTransactionalIqFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmBitemporalTransactionalIqFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmBitemporalTransactionalIqFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,171 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AlarmBitemporalTransactionalListAbstract extends DelegatingList<AlarmBitemporalTransactional> implements MithraDatedTransactionalList<AlarmBitemporalTransactional>
+{
+	public AlarmBitemporalTransactionalListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AlarmBitemporalTransactionalListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AlarmBitemporalTransactionalListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AlarmBitemporalTransactionalListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AlarmBitemporalTransactional[] elements()
+	{
+		AlarmBitemporalTransactional[] result = new AlarmBitemporalTransactional[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AlarmBitemporalTransactionalList intersection(AlarmBitemporalTransactionalList another)
+	{
+		return (AlarmBitemporalTransactionalList)super.intersection(another);
+	}
+
+	public AlarmBitemporalTransactional getAlarmBitemporalTransactionalAt(int index)
+	{
+		return (AlarmBitemporalTransactional)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AlarmBitemporalTransactionalFinder.getMithraObjectPortal();
+	}
+
+	public AlarmBitemporalTransactionalList getNonPersistentCopy()
+	{
+		AlarmBitemporalTransactionalList result = new AlarmBitemporalTransactionalList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AlarmBitemporalTransactionalList asAdhoc()
+	{
+		return (AlarmBitemporalTransactionalList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AlarmBitemporalTransactional> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AlarmBitemporalTransactionalList merge(MithraTransactionalList<AlarmBitemporalTransactional> incoming, TopLevelMergeOptions<AlarmBitemporalTransactional> mergeOptions)
+	{
+		return (AlarmBitemporalTransactionalList) super.merge(incoming, mergeOptions);
+	}
+
+	public AlarmBitemporalTransactionalList getDetachedCopy()
+	{
+		AlarmBitemporalTransactionalList result = new AlarmBitemporalTransactionalList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmBitemporalTransactionalFinder.id(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmBitemporalTransactionalFinder.time(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AlarmBitemporalTransactionalFinder.description(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmBitemporalTransactionalFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmBitemporalTransactionalFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmBitemporalTransactionalFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmBitemporalTransactionalFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
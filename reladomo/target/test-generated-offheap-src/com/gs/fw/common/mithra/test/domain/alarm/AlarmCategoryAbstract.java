@@ -0,0 +1,291 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AlarmCategoryAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AlarmCategory.class.getName());
+	public AlarmCategoryAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AlarmCategory getDetachedCopy() throws MithraBusinessException
+	{
+		return (AlarmCategory) super.getDetachedCopy();
+	}
+
+	public AlarmCategory getNonPersistentCopy() throws MithraBusinessException
+	{
+		AlarmCategory result = (AlarmCategory) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public AlarmCategory copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AlarmCategory) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AlarmCategory zFindOriginal()
+	{
+		AlarmCategoryData data = (AlarmCategoryData) this.currentData;
+		Operation op;
+		op = AlarmCategoryFinder.id().eq(data.getId());
+		return AlarmCategoryFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AlarmCategoryData();
+	}
+
+	protected void zSetFromAlarmCategoryData( AlarmCategoryData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAlarmCategoryData( AlarmCategoryData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCategoryNull()
+	{
+		return ((AlarmCategoryData) this.zSynchronizedGetData()).isCategoryNull();
+	}
+
+	public int getCategory()
+	{
+		AlarmCategoryData data = (AlarmCategoryData) this.zSynchronizedGetData();
+		if (data.isCategoryNull()) MithraNullPrimitiveException.throwNew("category", data);
+		return data.getCategory();
+	}
+
+	public void setCategory(int newValue)
+	{
+		zSetInteger(AlarmCategoryFinder.category(), newValue, false, false ,true);
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((AlarmCategoryData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		AlarmCategoryData data = (AlarmCategoryData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 30: " + newValue);
+		zSetString(AlarmCategoryFinder.description(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((AlarmCategoryData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		AlarmCategoryData data = (AlarmCategoryData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmCategoryFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isTimeNull()
+	{
+		return ((AlarmCategoryData) this.zSynchronizedGetData()).isTimeNull();
+	}
+
+	public Time getTime()
+	{
+		AlarmCategoryData data = (AlarmCategoryData) this.zSynchronizedGetData();
+		return data.getTime();
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmCategoryFinder.time(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, AlarmCategoryFinder.category(), false);
+	}
+
+	public void setCategoryNull()
+	{
+		zNullify(AlarmCategoryFinder.category(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AlarmCategoryData _newData = (AlarmCategoryData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AlarmCategoryData _newData = (AlarmCategoryData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AlarmCategoryData _newData = (AlarmCategoryData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AlarmCategory zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AlarmCategory original = (AlarmCategory) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AlarmCategoryFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AlarmCategoryFinder.getMithraObjectPortal();
+	}
+
+	public AlarmCategory getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AlarmCategoryFinder.category(), false);
+		changed |= zUpdateString(behavior, data, newData, AlarmCategoryFinder.description(), false);
+		changed |= zUpdateTime(behavior, data, newData, AlarmCategoryFinder.time(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AlarmCategoryFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AlarmCategoryAbstract result = (AlarmCategoryAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,160 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AlarmDatedTransactionalListAbstract extends DelegatingList<AlarmDatedTransactional> implements MithraDatedTransactionalList<AlarmDatedTransactional>
+{
+	public AlarmDatedTransactionalListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AlarmDatedTransactionalListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AlarmDatedTransactionalListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AlarmDatedTransactionalListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AlarmDatedTransactional[] elements()
+	{
+		AlarmDatedTransactional[] result = new AlarmDatedTransactional[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AlarmDatedTransactionalList intersection(AlarmDatedTransactionalList another)
+	{
+		return (AlarmDatedTransactionalList)super.intersection(another);
+	}
+
+	public AlarmDatedTransactional getAlarmDatedTransactionalAt(int index)
+	{
+		return (AlarmDatedTransactional)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AlarmDatedTransactionalFinder.getMithraObjectPortal();
+	}
+
+	public AlarmDatedTransactionalList getNonPersistentCopy()
+	{
+		AlarmDatedTransactionalList result = new AlarmDatedTransactionalList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AlarmDatedTransactionalList asAdhoc()
+	{
+		return (AlarmDatedTransactionalList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AlarmDatedTransactional> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AlarmDatedTransactionalList merge(MithraTransactionalList<AlarmDatedTransactional> incoming, TopLevelMergeOptions<AlarmDatedTransactional> mergeOptions)
+	{
+		return (AlarmDatedTransactionalList) super.merge(incoming, mergeOptions);
+	}
+
+	public AlarmDatedTransactionalList getDetachedCopy()
+	{
+		AlarmDatedTransactionalList result = new AlarmDatedTransactionalList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmDatedTransactionalFinder.id(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmDatedTransactionalFinder.time(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AlarmDatedTransactionalFinder.description(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmDatedTransactionalFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmDatedTransactionalFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
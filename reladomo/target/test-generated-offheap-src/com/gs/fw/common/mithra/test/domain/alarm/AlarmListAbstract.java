@@ -0,0 +1,171 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AlarmListAbstract extends DelegatingList<Alarm> implements MithraTransactionalList<Alarm>
+{
+	public AlarmListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AlarmListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AlarmListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AlarmListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Alarm[] elements()
+	{
+		Alarm[] result = new Alarm[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AlarmList intersection(AlarmList another)
+	{
+		return (AlarmList)super.intersection(another);
+	}
+
+	public Alarm getAlarmAt(int index)
+	{
+		return (Alarm)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = Cellphone.id</pre>
+	* @see Cellphone#getAlarm() reverse relationship Cellphone.getAlarm()
+	* @return The cellphone
+	*/
+	public CellphoneList getCellphones()
+	{
+		return (CellphoneList) this.zGetDelegated().resolveRelationship(this, AlarmFinder.cellphone());
+	}
+
+	public void zSetParentContainercellphone(CellphoneAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			Alarm item = this.getAlarmAt(i);
+			item.zSetParentContainercellphone(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.time = Cellphone2.time</pre>
+	* @see Cellphone2#getAlarms() reverse relationship Cellphone2.getAlarms()
+	* @return cellphones2
+	*/
+	public Cellphone2List getCellphones2()
+	{
+		return (Cellphone2List) this.zGetDelegated().resolveRelationship(this, AlarmFinder.cellphones2());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AlarmFinder.getMithraObjectPortal();
+	}
+
+	public AlarmList getNonPersistentCopy()
+	{
+		AlarmList result = new AlarmList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AlarmList asAdhoc()
+	{
+		return (AlarmList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Alarm> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AlarmList merge(MithraTransactionalList<Alarm> incoming, TopLevelMergeOptions<Alarm> mergeOptions)
+	{
+		return (AlarmList) super.merge(incoming, mergeOptions);
+	}
+
+	public AlarmList getDetachedCopy()
+	{
+		AlarmList result = new AlarmList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmFinder.id(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmFinder.time(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AlarmFinder.description(), newValue);
+	}
+}
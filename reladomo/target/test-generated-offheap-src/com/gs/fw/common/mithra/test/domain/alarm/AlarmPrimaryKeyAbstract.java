@@ -0,0 +1,309 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AlarmPrimaryKeyAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AlarmPrimaryKey.class.getName());
+	public AlarmPrimaryKeyAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AlarmPrimaryKey getDetachedCopy() throws MithraBusinessException
+	{
+		return (AlarmPrimaryKey) super.getDetachedCopy();
+	}
+
+	public AlarmPrimaryKey getNonPersistentCopy() throws MithraBusinessException
+	{
+		AlarmPrimaryKey result = (AlarmPrimaryKey) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public AlarmPrimaryKey copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AlarmPrimaryKey original = (AlarmPrimaryKey) behavior.updateOriginalOrInsert(this);
+		behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!behavior.isDeleted()) ((AlarmPrimaryKeyData)this.transactionalState.getTxData()).zSetUpdated();
+		return original;
+	}
+
+	public AlarmPrimaryKey copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AlarmPrimaryKey) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public void zSetInserted()
+	{
+		MithraDataObject data;
+		boolean validTransactionalState = this.transactionalState != null;
+		if(validTransactionalState)
+		{
+			data = this.transactionalState.getTxData();
+			if (data == null)
+			{
+				data = this.currentData.copy();
+				this.transactionalState.setTxData(data);
+			}
+		}
+		else
+		{
+			data = this.currentData;
+		}
+
+		((AlarmPrimaryKeyData)data).zSetUpdated();
+	}
+
+	public void zSetUpdated(List<AttributeUpdateWrapper> updates)
+	{
+		((AlarmPrimaryKeyData)this.transactionalState.getTxData()).zSetUpdated();
+	}
+
+	public AlarmPrimaryKey zFindOriginal()
+	{
+		AlarmPrimaryKeyData data = (AlarmPrimaryKeyData) this.zSynchronizedGetDataForPrimaryKey();
+		Operation op;
+		op = AlarmPrimaryKeyFinder.time().eq(data._oldgetTime());
+		return AlarmPrimaryKeyFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AlarmPrimaryKeyData();
+	}
+
+	protected void zSetFromAlarmPrimaryKeyData( AlarmPrimaryKeyData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAlarmPrimaryKeyData( AlarmPrimaryKeyData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((AlarmPrimaryKeyData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		AlarmPrimaryKeyData data = (AlarmPrimaryKeyData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 30: " + newValue);
+		zSetString(AlarmPrimaryKeyFinder.description(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((AlarmPrimaryKeyData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		AlarmPrimaryKeyData data = (AlarmPrimaryKeyData) this.zSynchronizedGetData();
+		if (data.isIdNull()) MithraNullPrimitiveException.throwNew("id", data);
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmPrimaryKeyFinder.id(), newValue, false, false ,true);
+	}
+
+	public boolean isTimeNull()
+	{
+		return ((AlarmPrimaryKeyData) this.zSynchronizedGetData()).isTimeNull();
+	}
+
+	public Time getTime()
+	{
+		AlarmPrimaryKeyData data = (AlarmPrimaryKeyData) this.zSynchronizedGetData();
+		return data.getTime();
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmPrimaryKeyFinder.time(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, AlarmPrimaryKeyFinder.id(), false);
+	}
+
+	public void setIdNull()
+	{
+		zNullify(AlarmPrimaryKeyFinder.id(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AlarmPrimaryKeyData _newData = (AlarmPrimaryKeyData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AlarmPrimaryKeyData _newData = (AlarmPrimaryKeyData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AlarmPrimaryKeyData _newData = (AlarmPrimaryKeyData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AlarmPrimaryKey zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AlarmPrimaryKey original = (AlarmPrimaryKey) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AlarmPrimaryKeyFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AlarmPrimaryKeyFinder.getMithraObjectPortal();
+	}
+
+	public AlarmPrimaryKey getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AlarmPrimaryKeyFinder.description(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AlarmPrimaryKeyFinder.id(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTime(behavior, data, newData, AlarmPrimaryKeyFinder.time(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AlarmPrimaryKeyAbstract result = (AlarmPrimaryKeyAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,372 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AlarmPrimaryKeyData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private String description;
+	private int id;
+	private Time time;
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isTimeNull()
+	{
+		return this.getTime() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.description);
+		out.writeInt(this.id);
+		out.writeObject(this.time);
+		out.writeObject(this._oldtime);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	private Time _oldtime;
+	public boolean _oldisTimeNull()
+	{
+		return this._oldgetTime() == null;
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, AlarmPrimaryKeyFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public Time getTime()
+	{
+		return this.time;
+	}
+
+	public long zGetOffHeapTimeAsLong()
+	{
+		if (time == null) return TimestampPool.OFF_HEAP_NULL;
+		return time.getOffHeapTime();
+	}
+
+	public void setTime(Time value)
+	{
+		this.time = value;
+	}
+
+	public void setTimeNull()
+	{
+		this.setTime(null);
+	}
+
+	public Time _oldgetTime()
+	{
+		return _oldtime;
+	}
+
+	public void _oldsetTime(Time value)
+	{
+		this._oldtime = value;
+	}
+
+	public void _oldsetTimeNull()
+	{
+		this._oldsetTime(null);
+	}
+
+	public void setIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(AlarmPrimaryKeyData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.description = this.description;
+		copy.id = this.id;
+		copy.time = this.time;
+		copy._oldtime = this._oldtime;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AlarmPrimaryKeyFinder.isFullCache());
+		this.id = in.readInt();
+		this.time = (Time)in.readObject();
+		this._oldtime = (Time)in.readObject();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AlarmPrimaryKeyData otherData = (AlarmPrimaryKeyData) other;
+		if (!isTimeNull() ? !getTime().equals(otherData.getTime()) : !otherData.isTimeNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.time);
+		out.writeObject(this._oldtime);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.time = (Time)in.readObject();
+		this._oldtime = (Time)in.readObject();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSetUpdated()
+	{
+		this._oldtime = this.time;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AlarmPrimaryKeyData alarmPrimaryKeyData = (AlarmPrimaryKeyData) newData;
+		this.setDescription(alarmPrimaryKeyData.getDescription());
+		this.setId(alarmPrimaryKeyData.getId());
+		if (alarmPrimaryKeyData.isIdNull()) this.setIdNull();
+	}
+
+	public boolean zAnyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zAnyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zAnyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		boolean result = zMutablePrimaryKeyAttributesChanged(newData);
+		if(result) return true;
+		return zNonPrimaryKeyAttributesChanged(newData, toleranceForFloatingPointFields);
+	}
+
+	public boolean zMutablePrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		final AlarmPrimaryKeyData alarmPrimaryKeyData = (AlarmPrimaryKeyData) newData;
+		if (!isTimeNull() ? !getTime().equals(alarmPrimaryKeyData.getTime()) : !alarmPrimaryKeyData.isTimeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AlarmPrimaryKeyData other = (AlarmPrimaryKeyData) newData;
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if ( isIdNull() != other.isIdNull() || getId() != other.getId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AlarmPrimaryKeyData copy = new AlarmPrimaryKeyData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AlarmPrimaryKeyData copy = new AlarmPrimaryKeyData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "time: "+(""+getTime())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.alarm.AlarmPrimaryKeyData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zAnyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AlarmPrimaryKeyFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AlarmPrimaryKeyFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.alarm.AlarmPrimaryKeyData";
+	}
+}
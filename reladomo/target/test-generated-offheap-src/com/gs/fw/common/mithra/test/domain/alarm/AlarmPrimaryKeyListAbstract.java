@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AlarmPrimaryKeyListAbstract extends DelegatingList<AlarmPrimaryKey> implements MithraTransactionalList<AlarmPrimaryKey>
+{
+	public AlarmPrimaryKeyListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AlarmPrimaryKeyListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AlarmPrimaryKeyListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AlarmPrimaryKeyListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AlarmPrimaryKey[] elements()
+	{
+		AlarmPrimaryKey[] result = new AlarmPrimaryKey[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AlarmPrimaryKeyList intersection(AlarmPrimaryKeyList another)
+	{
+		return (AlarmPrimaryKeyList)super.intersection(another);
+	}
+
+	public AlarmPrimaryKey getAlarmPrimaryKeyAt(int index)
+	{
+		return (AlarmPrimaryKey)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AlarmPrimaryKeyFinder.getMithraObjectPortal();
+	}
+
+	public AlarmPrimaryKeyList getNonPersistentCopy()
+	{
+		AlarmPrimaryKeyList result = new AlarmPrimaryKeyList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AlarmPrimaryKeyList asAdhoc()
+	{
+		return (AlarmPrimaryKeyList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AlarmPrimaryKey> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AlarmPrimaryKeyList merge(MithraTransactionalList<AlarmPrimaryKey> incoming, TopLevelMergeOptions<AlarmPrimaryKey> mergeOptions)
+	{
+		return (AlarmPrimaryKeyList) super.merge(incoming, mergeOptions);
+	}
+
+	public AlarmPrimaryKeyList getDetachedCopy()
+	{
+		AlarmPrimaryKeyList result = new AlarmPrimaryKeyList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmPrimaryKeyFinder.id(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmPrimaryKeyFinder.time(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AlarmPrimaryKeyFinder.description(), newValue);
+	}
+
+	public void setIdNull()
+	{
+		zSetAttributeNull(AlarmPrimaryKeyFinder.id());
+	}
+}
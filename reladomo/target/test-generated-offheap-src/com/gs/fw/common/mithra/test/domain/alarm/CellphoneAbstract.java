@@ -0,0 +1,519 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class CellphoneAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Cellphone.class.getName());
+	private static final RelationshipHashStrategy foralarm = new AlarmRhs();
+	private static final class AlarmRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			CellphoneData _castedSrcData = (CellphoneData) _srcData;
+			AlarmData _castedTargetData = (AlarmData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			CellphoneData _castedSrcData = (CellphoneData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public CellphoneAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Cellphone getDetachedCopy() throws MithraBusinessException
+	{
+		return (Cellphone) super.getDetachedCopy();
+	}
+
+	public Cellphone getNonPersistentCopy() throws MithraBusinessException
+	{
+		Cellphone result = (Cellphone) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Cellphone copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Cellphone) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Cellphone zFindOriginal()
+	{
+		CellphoneData data = (CellphoneData) this.currentData;
+		Operation op;
+		op = CellphoneFinder.id().eq(data.getId());
+		return CellphoneFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isAlarmModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new CellphoneData();
+	}
+
+	protected void zSetFromCellphoneData( CellphoneData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromCellphoneData( CellphoneData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((CellphoneData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		CellphoneData data = (CellphoneData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 30: " + newValue);
+		zSetString(CellphoneFinder.description(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((CellphoneData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		CellphoneData data = (CellphoneData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(CellphoneFinder.id(), newValue, true, false ,false);
+		if (d == null) return;
+		CellphoneData data = (CellphoneData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			Alarm alarm =
+			(Alarm ) data.getAlarm();
+			if (alarm != null)
+			{
+				alarm.setId(newValue);
+			}
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		CellphoneData _newData = (CellphoneData) _data;
+		if (_newData.getAlarm() instanceof NulledRelation)
+		{
+			Alarm alarm =
+			this.getAlarm();
+			if (alarm != null)
+			{
+				alarm.cascadeDelete();
+			}
+		}
+		else
+		{
+			Alarm alarm =
+			(Alarm) _newData.getAlarm();
+			if (alarm != null)
+			{
+				Alarm _existing =
+				this.getAlarm();
+				if (_existing == null)
+				{
+					alarm.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(alarm.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(alarm.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		CellphoneData _newData = (CellphoneData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getAlarm() != null && !(_newData.getAlarm() instanceof NulledRelation))
+		{
+			((Alarm)_newData.getAlarm()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		CellphoneData _newData = (CellphoneData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getAlarm() != null && !(_newData.getAlarm() instanceof NulledRelation))
+		{
+			((Alarm)_newData.getAlarm()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Alarm.id = this.id</pre>
+	* @see Alarm#getCellphone() reverse relationship Alarm.getCellphone()
+	* @return The alarm
+	*/
+	public Alarm getAlarm()
+	{
+		Alarm _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		CellphoneData _data = (CellphoneData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = AlarmFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, foralarm, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Alarm) _related;
+				if (_related == null)
+				{
+					_op = AlarmFinder.id().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getAlarm() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (Alarm) _data.getAlarm();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = AlarmFinder.id().eq(_data.getId());
+					_result = AlarmFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (CellphoneData) _behavior.getCurrentDataForWrite(this);
+				_data.setAlarm(_result);
+				if (_result != null) _result.zSetParentContainercellphone(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Alarm) _data.getAlarm();
+		}
+
+		if (_op != null)
+		{
+			_result = AlarmFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setAlarm(Alarm alarm)
+	{
+		Alarm _alarm = (Alarm) alarm;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		CellphoneData _data = (CellphoneData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getAlarm();
+			_data.setAlarm(_alarm);
+			if (_alarm != null)
+			{
+				_alarm.setId(_data.getId());
+				_alarm.zSetParentContainercellphone(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setAlarm(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			Alarm _existing = this.getAlarm();
+			if (_alarm != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_alarm != null)
+				{
+					_alarm.setId(_data.getId());
+					_alarm.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isAlarmModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		CellphoneData _data = (CellphoneData) _behavior.getCurrentDataForRead(this);
+		if (_data.getAlarm() instanceof NulledRelation)
+		{
+			Alarm _existing = this.getOriginalPersistentObject().getAlarm();
+			return _existing != null;
+		}
+
+		Alarm alarm =
+		(Alarm) _data.getAlarm();
+		if( alarm != null)
+		{
+			return alarm.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		CellphoneData _data = (CellphoneData) _behavior.getCurrentDataForWrite(this);
+		Alarm alarm =
+		(Alarm) _data.getAlarm();
+		_behavior.insert(this);
+		if (alarm != null)
+		{
+			alarm.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		CellphoneFinder.CellphoneRelatedFinder parentFinder = (CellphoneFinder.CellphoneRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		CellphoneData _newData = (CellphoneData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getAlarm() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.alarm();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			Alarm alarm =
+			(Alarm) _newData.getAlarm();
+			RelatedFinder dependentFinder = parentFinder.alarm();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, alarm != null, navigationStats);
+			if (alarm != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(alarm, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Cellphone zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		CellphoneData _data = (CellphoneData) _behavior.getCurrentDataForWrite(this);
+		Alarm alarm =
+		(Alarm) _data.getAlarm();
+		Cellphone original = (Cellphone) _behavior.copyThenInsert(this);
+		if (alarm != null)
+		{
+			alarm.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		{
+			Alarm related = this.getAlarm();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return CellphoneFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return CellphoneFinder.getMithraObjectPortal();
+	}
+
+	public Cellphone getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, CellphoneFinder.description(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, CellphoneFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		CellphoneAbstract result = (CellphoneAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class AlarmAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			Alarm item = (Alarm) relatedObject;
+			item.setId(getId());
+			item.zSetParentContainercellphone(CellphoneAbstract.this);
+		}
+	}
+
+	protected class AlarmAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			Alarm item = (Alarm) relatedObject;
+			item.setId(getId());
+			item.cascadeInsert();
+		}
+	}
+}
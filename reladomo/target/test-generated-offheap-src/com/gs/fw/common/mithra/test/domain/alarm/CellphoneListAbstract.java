@@ -0,0 +1,151 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class CellphoneListAbstract extends DelegatingList<Cellphone> implements MithraTransactionalList<Cellphone>
+{
+	public CellphoneListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public CellphoneListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public CellphoneListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public CellphoneListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Cellphone[] elements()
+	{
+		Cellphone[] result = new Cellphone[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public CellphoneList intersection(CellphoneList another)
+	{
+		return (CellphoneList)super.intersection(another);
+	}
+
+	public Cellphone getCellphoneAt(int index)
+	{
+		return (Cellphone)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Alarm.id = this.id</pre>
+	* @see Alarm#getCellphone() reverse relationship Alarm.getCellphone()
+	* @return The alarm
+	*/
+	public AlarmList getAlarms()
+	{
+		return (AlarmList) this.zGetDelegated().resolveRelationship(this, CellphoneFinder.alarm());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return CellphoneFinder.getMithraObjectPortal();
+	}
+
+	public CellphoneList getNonPersistentCopy()
+	{
+		CellphoneList result = new CellphoneList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public CellphoneList asAdhoc()
+	{
+		return (CellphoneList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Cellphone> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public CellphoneList merge(MithraTransactionalList<Cellphone> incoming, TopLevelMergeOptions<Cellphone> mergeOptions)
+	{
+		return (CellphoneList) super.merge(incoming, mergeOptions);
+	}
+
+	public CellphoneList getDetachedCopy()
+	{
+		CellphoneList result = new CellphoneList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(CellphoneFinder.id(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(CellphoneFinder.description(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getAlarms()).cascadeDeleteAll();
+	}
+}
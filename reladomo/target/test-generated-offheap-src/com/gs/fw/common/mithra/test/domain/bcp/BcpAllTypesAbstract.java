@@ -0,0 +1,642 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class BcpAllTypesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(BcpAllTypes.class.getName());
+	public BcpAllTypesAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BcpAllTypes getDetachedCopy() throws MithraBusinessException
+	{
+		return (BcpAllTypes) super.getDetachedCopy();
+	}
+
+	public BcpAllTypes getNonPersistentCopy() throws MithraBusinessException
+	{
+		BcpAllTypes result = (BcpAllTypes) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public BcpAllTypes copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BcpAllTypes) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public BcpAllTypes zFindOriginal()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.currentData;
+		Operation op;
+		op = BcpAllTypesFinder.id().eq(data.getId());
+		return BcpAllTypesFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BcpAllTypesData();
+	}
+
+	protected void zSetFromBcpAllTypesData( BcpAllTypesData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromBcpAllTypesData( BcpAllTypesData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBooleanValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isBooleanValueNull();
+	}
+
+	public boolean isBooleanValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.isBooleanValue();
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(BcpAllTypesFinder.booleanValue(), newValue, false, false ,false);
+	}
+
+	public boolean isByteValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isByteValueNull();
+	}
+
+	public byte getByteValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getByteValue();
+	}
+
+	public void setByteValue(byte newValue)
+	{
+		zSetByte(BcpAllTypesFinder.byteValue(), newValue, false, false ,false);
+	}
+
+	public boolean isCharValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isCharValueNull();
+	}
+
+	public char getCharValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getCharValue();
+	}
+
+	public void setCharValue(char newValue)
+	{
+		zSetChar(BcpAllTypesFinder.charValue(), newValue, false, false ,false);
+	}
+
+	public boolean isDateValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isDateValueNull();
+	}
+
+	public Date getDateValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getDateValue();
+	}
+
+	public void setDateValue(Date newValue)
+	{
+		zSetDate(BcpAllTypesFinder.dateValue(), newValue, false, false );
+	}
+
+	public boolean isDoubleValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isDoubleValueNull();
+	}
+
+	public double getDoubleValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getDoubleValue();
+	}
+
+	public void setDoubleValue(double newValue)
+	{
+		zSetDouble(BcpAllTypesFinder.doubleValue(), newValue, false, false ,false);
+	}
+
+	public boolean isFloatValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isFloatValueNull();
+	}
+
+	public float getFloatValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getFloatValue();
+	}
+
+	public void setFloatValue(float newValue)
+	{
+		zSetFloat(BcpAllTypesFinder.floatValue(), newValue, false, false ,false);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BcpAllTypesFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isIntValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isIntValueNull();
+	}
+
+	public int getIntValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getIntValue();
+	}
+
+	public void setIntValue(int newValue)
+	{
+		zSetInteger(BcpAllTypesFinder.intValue(), newValue, false, false ,false);
+	}
+
+	public boolean isLongValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isLongValueNull();
+	}
+
+	public long getLongValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getLongValue();
+	}
+
+	public void setLongValue(long newValue)
+	{
+		zSetLong(BcpAllTypesFinder.longValue(), newValue, false, false ,false);
+	}
+
+	public boolean isNullableByteValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableByteValueNull();
+	}
+
+	public byte getNullableByteValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		if (data.isNullableByteValueNull()) MithraNullPrimitiveException.throwNew("nullableByteValue", data);
+		return data.getNullableByteValue();
+	}
+
+	public void setNullableByteValue(byte newValue)
+	{
+		zSetByte(BcpAllTypesFinder.nullableByteValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableCharValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableCharValueNull();
+	}
+
+	public char getNullableCharValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		if (data.isNullableCharValueNull()) MithraNullPrimitiveException.throwNew("nullableCharValue", data);
+		return data.getNullableCharValue();
+	}
+
+	public void setNullableCharValue(char newValue)
+	{
+		zSetChar(BcpAllTypesFinder.nullableCharValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableDateValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableDateValueNull();
+	}
+
+	public Date getNullableDateValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getNullableDateValue();
+	}
+
+	public void setNullableDateValue(Date newValue)
+	{
+		zSetDate(BcpAllTypesFinder.nullableDateValue(), newValue, false, false );
+	}
+
+	public boolean isNullableDoubleValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableDoubleValueNull();
+	}
+
+	public double getNullableDoubleValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		if (data.isNullableDoubleValueNull()) MithraNullPrimitiveException.throwNew("nullableDoubleValue", data);
+		return data.getNullableDoubleValue();
+	}
+
+	public void setNullableDoubleValue(double newValue)
+	{
+		zSetDouble(BcpAllTypesFinder.nullableDoubleValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableFloatValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableFloatValueNull();
+	}
+
+	public float getNullableFloatValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		if (data.isNullableFloatValueNull()) MithraNullPrimitiveException.throwNew("nullableFloatValue", data);
+		return data.getNullableFloatValue();
+	}
+
+	public void setNullableFloatValue(float newValue)
+	{
+		zSetFloat(BcpAllTypesFinder.nullableFloatValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableIntValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableIntValueNull();
+	}
+
+	public int getNullableIntValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		if (data.isNullableIntValueNull()) MithraNullPrimitiveException.throwNew("nullableIntValue", data);
+		return data.getNullableIntValue();
+	}
+
+	public void setNullableIntValue(int newValue)
+	{
+		zSetInteger(BcpAllTypesFinder.nullableIntValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableLongValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableLongValueNull();
+	}
+
+	public long getNullableLongValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		if (data.isNullableLongValueNull()) MithraNullPrimitiveException.throwNew("nullableLongValue", data);
+		return data.getNullableLongValue();
+	}
+
+	public void setNullableLongValue(long newValue)
+	{
+		zSetLong(BcpAllTypesFinder.nullableLongValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableShortValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableShortValueNull();
+	}
+
+	public short getNullableShortValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		if (data.isNullableShortValueNull()) MithraNullPrimitiveException.throwNew("nullableShortValue", data);
+		return data.getNullableShortValue();
+	}
+
+	public void setNullableShortValue(short newValue)
+	{
+		zSetShort(BcpAllTypesFinder.nullableShortValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableStringValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableStringValueNull();
+	}
+
+	public String getNullableStringValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getNullableStringValue();
+	}
+
+	public void setNullableStringValue(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(BcpAllTypesFinder.nullableStringValue(), newValue, false, false );
+	}
+
+	public boolean isNullableTimestampValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isNullableTimestampValueNull();
+	}
+
+	public Timestamp getNullableTimestampValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getNullableTimestampValue();
+	}
+
+	public void setNullableTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(BcpAllTypesFinder.nullableTimestampValue(), newValue, false, false );
+	}
+
+	public boolean isShortValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isShortValueNull();
+	}
+
+	public short getShortValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getShortValue();
+	}
+
+	public void setShortValue(short newValue)
+	{
+		zSetShort(BcpAllTypesFinder.shortValue(), newValue, false, false ,false);
+	}
+
+	public boolean isStringValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isStringValueNull();
+	}
+
+	public String getStringValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getStringValue();
+	}
+
+	public void setStringValue(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(BcpAllTypesFinder.stringValue(), newValue, false, false );
+	}
+
+	public boolean isTimestampValueNull()
+	{
+		return ((BcpAllTypesData) this.zSynchronizedGetData()).isTimestampValueNull();
+	}
+
+	public Timestamp getTimestampValue()
+	{
+		BcpAllTypesData data = (BcpAllTypesData) this.zSynchronizedGetData();
+		return data.getTimestampValue();
+	}
+
+	public void setTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(BcpAllTypesFinder.timestampValue(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, BcpAllTypesFinder.nullableByteValue(), false);
+		zNullify(behavior, data, BcpAllTypesFinder.nullableShortValue(), false);
+		zNullify(behavior, data, BcpAllTypesFinder.nullableCharValue(), false);
+		zNullify(behavior, data, BcpAllTypesFinder.nullableIntValue(), false);
+		zNullify(behavior, data, BcpAllTypesFinder.nullableLongValue(), false);
+		zNullify(behavior, data, BcpAllTypesFinder.nullableFloatValue(), false);
+		zNullify(behavior, data, BcpAllTypesFinder.nullableDoubleValue(), false);
+	}
+
+	public void setNullableByteValueNull()
+	{
+		zNullify(BcpAllTypesFinder.nullableByteValue(), false);
+	}
+
+	public void setNullableShortValueNull()
+	{
+		zNullify(BcpAllTypesFinder.nullableShortValue(), false);
+	}
+
+	public void setNullableCharValueNull()
+	{
+		zNullify(BcpAllTypesFinder.nullableCharValue(), false);
+	}
+
+	public void setNullableIntValueNull()
+	{
+		zNullify(BcpAllTypesFinder.nullableIntValue(), false);
+	}
+
+	public void setNullableLongValueNull()
+	{
+		zNullify(BcpAllTypesFinder.nullableLongValue(), false);
+	}
+
+	public void setNullableFloatValueNull()
+	{
+		zNullify(BcpAllTypesFinder.nullableFloatValue(), false);
+	}
+
+	public void setNullableDoubleValueNull()
+	{
+		zNullify(BcpAllTypesFinder.nullableDoubleValue(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BcpAllTypesData _newData = (BcpAllTypesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		BcpAllTypesData _newData = (BcpAllTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BcpAllTypesData _newData = (BcpAllTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public BcpAllTypes zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BcpAllTypes original = (BcpAllTypes) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return BcpAllTypesFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BcpAllTypesFinder.getMithraObjectPortal();
+	}
+
+	public BcpAllTypes getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, BcpAllTypesFinder.booleanValue(), false);
+		changed |= zUpdateByte(behavior, data, newData, BcpAllTypesFinder.byteValue(), false);
+		changed |= zUpdateChar(behavior, data, newData, BcpAllTypesFinder.charValue(), false);
+		changed |= zUpdateDate(behavior, data, newData, BcpAllTypesFinder.dateValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BcpAllTypesFinder.doubleValue(), false);
+		changed |= zUpdateFloat(behavior, data, newData, BcpAllTypesFinder.floatValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpAllTypesFinder.intValue(), false);
+		changed |= zUpdateLong(behavior, data, newData, BcpAllTypesFinder.longValue(), false);
+		changed |= zUpdateByte(behavior, data, newData, BcpAllTypesFinder.nullableByteValue(), false);
+		changed |= zUpdateChar(behavior, data, newData, BcpAllTypesFinder.nullableCharValue(), false);
+		changed |= zUpdateDate(behavior, data, newData, BcpAllTypesFinder.nullableDateValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BcpAllTypesFinder.nullableDoubleValue(), false);
+		changed |= zUpdateFloat(behavior, data, newData, BcpAllTypesFinder.nullableFloatValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpAllTypesFinder.nullableIntValue(), false);
+		changed |= zUpdateLong(behavior, data, newData, BcpAllTypesFinder.nullableLongValue(), false);
+		changed |= zUpdateShort(behavior, data, newData, BcpAllTypesFinder.nullableShortValue(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpAllTypesFinder.nullableStringValue(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpAllTypesFinder.nullableTimestampValue(), false);
+		changed |= zUpdateShort(behavior, data, newData, BcpAllTypesFinder.shortValue(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpAllTypesFinder.stringValue(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpAllTypesFinder.timestampValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BcpAllTypesFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		BcpAllTypesAbstract result = (BcpAllTypesAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1045 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BcpAllTypesFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/bcp/BcpAllTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.bcp.BcpAllTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.bcp.BcpAllTypes");
+	private static final BcpAllTypesSingleFinder<BcpAllTypes, Object, BcpAllTypes> finder = new BcpAllTypesSingleFinder<BcpAllTypes, Object, BcpAllTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BcpAllTypesFinder.BcpAllTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("booleanValue");
+		finderMethodMap.addNormalAttributeName("byteValue");
+		finderMethodMap.addNormalAttributeName("shortValue");
+		finderMethodMap.addNormalAttributeName("charValue");
+		finderMethodMap.addNormalAttributeName("intValue");
+		finderMethodMap.addNormalAttributeName("longValue");
+		finderMethodMap.addNormalAttributeName("floatValue");
+		finderMethodMap.addNormalAttributeName("doubleValue");
+		finderMethodMap.addNormalAttributeName("dateValue");
+		finderMethodMap.addNormalAttributeName("timestampValue");
+		finderMethodMap.addNormalAttributeName("stringValue");
+		finderMethodMap.addNormalAttributeName("nullableByteValue");
+		finderMethodMap.addNormalAttributeName("nullableShortValue");
+		finderMethodMap.addNormalAttributeName("nullableCharValue");
+		finderMethodMap.addNormalAttributeName("nullableIntValue");
+		finderMethodMap.addNormalAttributeName("nullableLongValue");
+		finderMethodMap.addNormalAttributeName("nullableFloatValue");
+		finderMethodMap.addNormalAttributeName("nullableDoubleValue");
+		finderMethodMap.addNormalAttributeName("nullableDateValue");
+		finderMethodMap.addNormalAttributeName("nullableTimestampValue");
+		finderMethodMap.addNormalAttributeName("nullableStringValue");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BcpAllTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BcpAllTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BcpAllTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BcpAllTypesList) finder.findMany(operation);
+	}
+
+	public static BcpAllTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BcpAllTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static BcpAllTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BcpAllTypes) FinderUtils.findOne(found);
+	}
+
+	public static BcpAllTypes findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BcpAllTypesData _castedTargetData = (BcpAllTypesData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BcpAllTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BcpAllTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BcpAllTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BcpAllTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private BooleanAttribute<ParentOwnerType> booleanValue;
+		private ByteAttribute<ParentOwnerType> byteValue;
+		private ShortAttribute<ParentOwnerType> shortValue;
+		private CharAttribute<ParentOwnerType> charValue;
+		private IntegerAttribute<ParentOwnerType> intValue;
+		private LongAttribute<ParentOwnerType> longValue;
+		private FloatAttribute<ParentOwnerType> floatValue;
+		private DoubleAttribute<ParentOwnerType> doubleValue;
+		private DateAttribute<ParentOwnerType> dateValue;
+		private TimestampAttribute<ParentOwnerType> timestampValue;
+		private StringAttribute<ParentOwnerType> stringValue;
+		private ByteAttribute<ParentOwnerType> nullableByteValue;
+		private ShortAttribute<ParentOwnerType> nullableShortValue;
+		private CharAttribute<ParentOwnerType> nullableCharValue;
+		private IntegerAttribute<ParentOwnerType> nullableIntValue;
+		private LongAttribute<ParentOwnerType> nullableLongValue;
+		private FloatAttribute<ParentOwnerType> nullableFloatValue;
+		private DoubleAttribute<ParentOwnerType> nullableDoubleValue;
+		private DateAttribute<ParentOwnerType> nullableDateValue;
+		private TimestampAttribute<ParentOwnerType> nullableTimestampValue;
+		private StringAttribute<ParentOwnerType> nullableStringValue;
+		public BcpAllTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public BcpAllTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.BcpAllTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BcpAllTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BcpAllTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BcpAllTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[22];
+			attributes[0] = this.id();
+			attributes[1] = this.booleanValue();
+			attributes[2] = this.byteValue();
+			attributes[3] = this.shortValue();
+			attributes[4] = this.charValue();
+			attributes[5] = this.intValue();
+			attributes[6] = this.longValue();
+			attributes[7] = this.floatValue();
+			attributes[8] = this.doubleValue();
+			attributes[9] = this.dateValue();
+			attributes[10] = this.timestampValue();
+			attributes[11] = this.stringValue();
+			attributes[12] = this.nullableByteValue();
+			attributes[13] = this.nullableShortValue();
+			attributes[14] = this.nullableCharValue();
+			attributes[15] = this.nullableIntValue();
+			attributes[16] = this.nullableLongValue();
+			attributes[17] = this.nullableFloatValue();
+			attributes[18] = this.nullableDoubleValue();
+			attributes[19] = this.nullableDateValue();
+			attributes[20] = this.nullableTimestampValue();
+			attributes[21] = this.nullableStringValue();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BcpAllTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BcpAllTypesFinder.findOne(operation, false);
+		}
+
+		public BcpAllTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BcpAllTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BcpAllTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BcpAllTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends BcpAllTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BcpAllTypesList result = (BcpAllTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BcpAllTypes> constructEmptyList()
+		{
+			return new BcpAllTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 445256752;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpAllTypesFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanValue()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOL_COL","","booleanValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(BcpAllTypesFinder.booleanValue(), this.mapper, this.zGetValueSelector());
+				this.booleanValue = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteValue()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_COL","","byteValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(BcpAllTypesFinder.byteValue(), this.mapper, this.zGetValueSelector());
+				this.byteValue = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortValue()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_COL","","shortValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(BcpAllTypesFinder.shortValue(), this.mapper, this.zGetValueSelector());
+				this.shortValue = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charValue()
+		{
+			CharAttribute<ParentOwnerType> result = this.charValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_COL","","charValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(BcpAllTypesFinder.charValue(), this.mapper, this.zGetValueSelector());
+				this.charValue = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intValue()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_COL","","intValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpAllTypesFinder.intValue(), this.mapper, this.zGetValueSelector());
+				this.intValue = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longValue()
+		{
+			LongAttribute<ParentOwnerType> result = this.longValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_COL","","longValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(BcpAllTypesFinder.longValue(), this.mapper, this.zGetValueSelector());
+				this.longValue = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatValue()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_COL","","floatValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(BcpAllTypesFinder.floatValue(), this.mapper, this.zGetValueSelector());
+				this.floatValue = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_COL","","doubleValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(BcpAllTypesFinder.doubleValue(), this.mapper, this.zGetValueSelector());
+				this.doubleValue = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> dateValue()
+		{
+			DateAttribute<ParentOwnerType> result = this.dateValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATE_COL","","dateValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(BcpAllTypesFinder.dateValue(), this.mapper, this.zGetValueSelector());
+				this.dateValue = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> timestampValue()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.timestampValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TIMESTAMP_COL","","timestampValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpAllTypesFinder.timestampValue(), this.mapper, this.zGetValueSelector());
+				this.timestampValue = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> stringValue()
+		{
+			StringAttribute<ParentOwnerType> result = this.stringValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STRING_COL","","stringValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(BcpAllTypesFinder.stringValue(), this.mapper, this.zGetValueSelector());
+				this.stringValue = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> nullableByteValue()
+		{
+			ByteAttribute<ParentOwnerType> result = this.nullableByteValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("NULL_BYTE_COL","","nullableByteValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(BcpAllTypesFinder.nullableByteValue(), this.mapper, this.zGetValueSelector());
+				this.nullableByteValue = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> nullableShortValue()
+		{
+			ShortAttribute<ParentOwnerType> result = this.nullableShortValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("NULL_SHORT_COL","","nullableShortValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(BcpAllTypesFinder.nullableShortValue(), this.mapper, this.zGetValueSelector());
+				this.nullableShortValue = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> nullableCharValue()
+		{
+			CharAttribute<ParentOwnerType> result = this.nullableCharValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("NULL_CHAR_COL","","nullableCharValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(BcpAllTypesFinder.nullableCharValue(), this.mapper, this.zGetValueSelector());
+				this.nullableCharValue = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableIntValue()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableIntValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULL_INT_COL","","nullableIntValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpAllTypesFinder.nullableIntValue(), this.mapper, this.zGetValueSelector());
+				this.nullableIntValue = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> nullableLongValue()
+		{
+			LongAttribute<ParentOwnerType> result = this.nullableLongValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("NULL_LONG_COL","","nullableLongValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(BcpAllTypesFinder.nullableLongValue(), this.mapper, this.zGetValueSelector());
+				this.nullableLongValue = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> nullableFloatValue()
+		{
+			FloatAttribute<ParentOwnerType> result = this.nullableFloatValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("NULL_FLOAT_COL","","nullableFloatValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(BcpAllTypesFinder.nullableFloatValue(), this.mapper, this.zGetValueSelector());
+				this.nullableFloatValue = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> nullableDoubleValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.nullableDoubleValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NULL_DOUBLE_COL","","nullableDoubleValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(BcpAllTypesFinder.nullableDoubleValue(), this.mapper, this.zGetValueSelector());
+				this.nullableDoubleValue = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> nullableDateValue()
+		{
+			DateAttribute<ParentOwnerType> result = this.nullableDateValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("NULL_DATE_COL","","nullableDateValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(BcpAllTypesFinder.nullableDateValue(), this.mapper, this.zGetValueSelector());
+				this.nullableDateValue = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> nullableTimestampValue()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.nullableTimestampValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("NULL_TIMESTAMP_COL","","nullableTimestampValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpAllTypesFinder.nullableTimestampValue(), this.mapper, this.zGetValueSelector());
+				this.nullableTimestampValue = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> nullableStringValue()
+		{
+			StringAttribute<ParentOwnerType> result = this.nullableStringValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NULL_STRING_COL","","nullableStringValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(BcpAllTypesFinder.nullableStringValue(), this.mapper, this.zGetValueSelector());
+				this.nullableStringValue = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BcpAllTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BcpAllTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BcpAllTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BcpAllTypesRelatedFinder<ParentOwnerType, ReturnType, BcpAllTypesList, OwnerType>
+	{
+		public BcpAllTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BcpAllTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BcpAllTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BcpAllTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BcpAllTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BcpAllTypesRelatedFinder<ParentOwnerType, ReturnType, BcpAllTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public BcpAllTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BcpAllTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BcpAllTypes other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BcpAllTypes findByPrimaryKey(int id)
+		{
+			BcpAllTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BcpAllTypes) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BcpAllTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BcpAllTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BcpAllTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to BCP_ALL_TYPES.ID **/
+	public static IntegerAttribute<BcpAllTypes> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to BCP_ALL_TYPES.BOOL_COL **/
+	public static BooleanAttribute<BcpAllTypes> booleanValue()
+	{
+		return finder.booleanValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.BYTE_COL **/
+	public static ByteAttribute<BcpAllTypes> byteValue()
+	{
+		return finder.byteValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.SHORT_COL **/
+	public static ShortAttribute<BcpAllTypes> shortValue()
+	{
+		return finder.shortValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.CHAR_COL **/
+	public static CharAttribute<BcpAllTypes> charValue()
+	{
+		return finder.charValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.INT_COL **/
+	public static IntegerAttribute<BcpAllTypes> intValue()
+	{
+		return finder.intValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.LONG_COL **/
+	public static LongAttribute<BcpAllTypes> longValue()
+	{
+		return finder.longValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.FLOAT_COL **/
+	public static FloatAttribute<BcpAllTypes> floatValue()
+	{
+		return finder.floatValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.DOUBLE_COL **/
+	public static DoubleAttribute<BcpAllTypes> doubleValue()
+	{
+		return finder.doubleValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.DATE_COL **/
+	public static DateAttribute<BcpAllTypes> dateValue()
+	{
+		return finder.dateValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.TIMESTAMP_COL **/
+	public static TimestampAttribute<BcpAllTypes> timestampValue()
+	{
+		return finder.timestampValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.STRING_COL **/
+	public static StringAttribute<BcpAllTypes> stringValue()
+	{
+		return finder.stringValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_BYTE_COL **/
+	public static ByteAttribute<BcpAllTypes> nullableByteValue()
+	{
+		return finder.nullableByteValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_SHORT_COL **/
+	public static ShortAttribute<BcpAllTypes> nullableShortValue()
+	{
+		return finder.nullableShortValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_CHAR_COL **/
+	public static CharAttribute<BcpAllTypes> nullableCharValue()
+	{
+		return finder.nullableCharValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_INT_COL **/
+	public static IntegerAttribute<BcpAllTypes> nullableIntValue()
+	{
+		return finder.nullableIntValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_LONG_COL **/
+	public static LongAttribute<BcpAllTypes> nullableLongValue()
+	{
+		return finder.nullableLongValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_FLOAT_COL **/
+	public static FloatAttribute<BcpAllTypes> nullableFloatValue()
+	{
+		return finder.nullableFloatValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_DOUBLE_COL **/
+	public static DoubleAttribute<BcpAllTypes> nullableDoubleValue()
+	{
+		return finder.nullableDoubleValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_DATE_COL **/
+	public static DateAttribute<BcpAllTypes> nullableDateValue()
+	{
+		return finder.nullableDateValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_TIMESTAMP_COL **/
+	public static TimestampAttribute<BcpAllTypes> nullableTimestampValue()
+	{
+		return finder.nullableTimestampValue();
+	}
+
+	/** maps to BCP_ALL_TYPES.NULL_STRING_COL **/
+	public static StringAttribute<BcpAllTypes> nullableStringValue()
+	{
+		return finder.nullableStringValue();
+	}
+
+	public static Operation eq(BcpAllTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static BcpAllTypesSingleFinder<BcpAllTypes, Object, BcpAllTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = doubleValue();
+		result[1] = nullableDoubleValue();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.bcp.BcpAllTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,270 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BcpAllTypesListAbstract extends DelegatingList<BcpAllTypes> implements MithraTransactionalList<BcpAllTypes>
+{
+	public BcpAllTypesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BcpAllTypesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BcpAllTypesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BcpAllTypesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BcpAllTypes[] elements()
+	{
+		BcpAllTypes[] result = new BcpAllTypes[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BcpAllTypesList intersection(BcpAllTypesList another)
+	{
+		return (BcpAllTypesList)super.intersection(another);
+	}
+
+	public BcpAllTypes getBcpAllTypesAt(int index)
+	{
+		return (BcpAllTypes)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BcpAllTypesFinder.getMithraObjectPortal();
+	}
+
+	public BcpAllTypesList getNonPersistentCopy()
+	{
+		BcpAllTypesList result = new BcpAllTypesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BcpAllTypesList asAdhoc()
+	{
+		return (BcpAllTypesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BcpAllTypes> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BcpAllTypesList merge(MithraTransactionalList<BcpAllTypes> incoming, TopLevelMergeOptions<BcpAllTypes> mergeOptions)
+	{
+		return (BcpAllTypesList) super.merge(incoming, mergeOptions);
+	}
+
+	public BcpAllTypesList getDetachedCopy()
+	{
+		BcpAllTypesList result = new BcpAllTypesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BcpAllTypesFinder.id(), newValue);
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(BcpAllTypesFinder.booleanValue(), newValue);
+	}
+
+	public void setByteValue(byte newValue)
+	{
+		zSetByte(BcpAllTypesFinder.byteValue(), newValue);
+	}
+
+	public void setShortValue(short newValue)
+	{
+		zSetShort(BcpAllTypesFinder.shortValue(), newValue);
+	}
+
+	public void setCharValue(char newValue)
+	{
+		zSetChar(BcpAllTypesFinder.charValue(), newValue);
+	}
+
+	public void setIntValue(int newValue)
+	{
+		zSetInteger(BcpAllTypesFinder.intValue(), newValue);
+	}
+
+	public void setLongValue(long newValue)
+	{
+		zSetLong(BcpAllTypesFinder.longValue(), newValue);
+	}
+
+	public void setFloatValue(float newValue)
+	{
+		zSetFloat(BcpAllTypesFinder.floatValue(), newValue);
+	}
+
+	public void setDoubleValue(double newValue)
+	{
+		zSetDouble(BcpAllTypesFinder.doubleValue(), newValue);
+	}
+
+	public void setDateValue(Date newValue)
+	{
+		zSetDate(BcpAllTypesFinder.dateValue(), newValue);
+	}
+
+	public void setTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(BcpAllTypesFinder.timestampValue(), newValue);
+	}
+
+	public void setStringValue(String newValue)
+	{
+		zSetString(BcpAllTypesFinder.stringValue(), newValue);
+	}
+
+	public void setNullableByteValue(byte newValue)
+	{
+		zSetByte(BcpAllTypesFinder.nullableByteValue(), newValue);
+	}
+
+	public void setNullableShortValue(short newValue)
+	{
+		zSetShort(BcpAllTypesFinder.nullableShortValue(), newValue);
+	}
+
+	public void setNullableCharValue(char newValue)
+	{
+		zSetChar(BcpAllTypesFinder.nullableCharValue(), newValue);
+	}
+
+	public void setNullableIntValue(int newValue)
+	{
+		zSetInteger(BcpAllTypesFinder.nullableIntValue(), newValue);
+	}
+
+	public void setNullableLongValue(long newValue)
+	{
+		zSetLong(BcpAllTypesFinder.nullableLongValue(), newValue);
+	}
+
+	public void setNullableFloatValue(float newValue)
+	{
+		zSetFloat(BcpAllTypesFinder.nullableFloatValue(), newValue);
+	}
+
+	public void setNullableDoubleValue(double newValue)
+	{
+		zSetDouble(BcpAllTypesFinder.nullableDoubleValue(), newValue);
+	}
+
+	public void setNullableDateValue(Date newValue)
+	{
+		zSetDate(BcpAllTypesFinder.nullableDateValue(), newValue);
+	}
+
+	public void setNullableTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(BcpAllTypesFinder.nullableTimestampValue(), newValue);
+	}
+
+	public void setNullableStringValue(String newValue)
+	{
+		zSetString(BcpAllTypesFinder.nullableStringValue(), newValue);
+	}
+
+	public void setNullableByteValueNull()
+	{
+		zSetAttributeNull(BcpAllTypesFinder.nullableByteValue());
+	}
+
+	public void setNullableShortValueNull()
+	{
+		zSetAttributeNull(BcpAllTypesFinder.nullableShortValue());
+	}
+
+	public void setNullableCharValueNull()
+	{
+		zSetAttributeNull(BcpAllTypesFinder.nullableCharValue());
+	}
+
+	public void setNullableIntValueNull()
+	{
+		zSetAttributeNull(BcpAllTypesFinder.nullableIntValue());
+	}
+
+	public void setNullableLongValueNull()
+	{
+		zSetAttributeNull(BcpAllTypesFinder.nullableLongValue());
+	}
+
+	public void setNullableFloatValueNull()
+	{
+		zSetAttributeNull(BcpAllTypesFinder.nullableFloatValue());
+	}
+
+	public void setNullableDoubleValueNull()
+	{
+		zSetAttributeNull(BcpAllTypesFinder.nullableDoubleValue());
+	}
+}
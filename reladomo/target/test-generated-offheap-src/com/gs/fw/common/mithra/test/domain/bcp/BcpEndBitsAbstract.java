@@ -0,0 +1,284 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class BcpEndBitsAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(BcpEndBits.class.getName());
+	public BcpEndBitsAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BcpEndBits getDetachedCopy() throws MithraBusinessException
+	{
+		return (BcpEndBits) super.getDetachedCopy();
+	}
+
+	public BcpEndBits getNonPersistentCopy() throws MithraBusinessException
+	{
+		BcpEndBits result = (BcpEndBits) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public BcpEndBits copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BcpEndBits) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public BcpEndBits zFindOriginal()
+	{
+		BcpEndBitsData data = (BcpEndBitsData) this.currentData;
+		Operation op;
+		op = BcpEndBitsFinder.id().eq(data.getId());
+		return BcpEndBitsFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BcpEndBitsData();
+	}
+
+	protected void zSetFromBcpEndBitsData( BcpEndBitsData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromBcpEndBitsData( BcpEndBitsData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDopeyNull()
+	{
+		return ((BcpEndBitsData) this.zSynchronizedGetData()).isDopeyNull();
+	}
+
+	public boolean isDopey()
+	{
+		BcpEndBitsData data = (BcpEndBitsData) this.zSynchronizedGetData();
+		return data.isDopey();
+	}
+
+	public void setDopey(boolean newValue)
+	{
+		zSetBoolean(BcpEndBitsFinder.dopey(), newValue, false, false ,false);
+	}
+
+	public boolean isHappyNull()
+	{
+		return ((BcpEndBitsData) this.zSynchronizedGetData()).isHappyNull();
+	}
+
+	public boolean isHappy()
+	{
+		BcpEndBitsData data = (BcpEndBitsData) this.zSynchronizedGetData();
+		return data.isHappy();
+	}
+
+	public void setHappy(boolean newValue)
+	{
+		zSetBoolean(BcpEndBitsFinder.happy(), newValue, false, false ,false);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((BcpEndBitsData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		BcpEndBitsData data = (BcpEndBitsData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BcpEndBitsFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isNameNull()
+	{
+		return ((BcpEndBitsData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		BcpEndBitsData data = (BcpEndBitsData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 12)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 12: " + newValue);
+		zSetString(BcpEndBitsFinder.name(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BcpEndBitsData _newData = (BcpEndBitsData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		BcpEndBitsData _newData = (BcpEndBitsData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BcpEndBitsData _newData = (BcpEndBitsData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public BcpEndBits zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BcpEndBits original = (BcpEndBits) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return BcpEndBitsFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BcpEndBitsFinder.getMithraObjectPortal();
+	}
+
+	public BcpEndBits getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, BcpEndBitsFinder.dopey(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BcpEndBitsFinder.happy(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpEndBitsFinder.name(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BcpEndBitsFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		BcpEndBitsAbstract result = (BcpEndBitsAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
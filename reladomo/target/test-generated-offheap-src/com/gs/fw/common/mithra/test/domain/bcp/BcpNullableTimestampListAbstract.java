@@ -0,0 +1,140 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BcpNullableTimestampListAbstract extends DelegatingList<BcpNullableTimestamp> implements MithraTransactionalList<BcpNullableTimestamp>
+{
+	public BcpNullableTimestampListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BcpNullableTimestampListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BcpNullableTimestampListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BcpNullableTimestampListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BcpNullableTimestamp[] elements()
+	{
+		BcpNullableTimestamp[] result = new BcpNullableTimestamp[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BcpNullableTimestampList intersection(BcpNullableTimestampList another)
+	{
+		return (BcpNullableTimestampList)super.intersection(another);
+	}
+
+	public BcpNullableTimestamp getBcpNullableTimestampAt(int index)
+	{
+		return (BcpNullableTimestamp)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BcpNullableTimestampFinder.getMithraObjectPortal();
+	}
+
+	public BcpNullableTimestampList getNonPersistentCopy()
+	{
+		BcpNullableTimestampList result = new BcpNullableTimestampList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BcpNullableTimestampList asAdhoc()
+	{
+		return (BcpNullableTimestampList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BcpNullableTimestamp> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BcpNullableTimestampList merge(MithraTransactionalList<BcpNullableTimestamp> incoming, TopLevelMergeOptions<BcpNullableTimestamp> mergeOptions)
+	{
+		return (BcpNullableTimestampList) super.merge(incoming, mergeOptions);
+	}
+
+	public BcpNullableTimestampList getDetachedCopy()
+	{
+		BcpNullableTimestampList result = new BcpNullableTimestampList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BcpNullableTimestampFinder.id(), newValue);
+	}
+
+	public void setTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(BcpNullableTimestampFinder.timestampValue(), newValue);
+	}
+
+	public void setNullableTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(BcpNullableTimestampFinder.nullableTimestampValue(), newValue);
+	}
+}
@@ -0,0 +1,4033 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface BcpRepoTradeData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 264;
+	boolean isAccount2IdNull();
+	int getAccount2Id();
+	void setAccount2Id(int value);
+	void setAccount2IdNull();
+	boolean isAccount2NumNull();
+	String getAccount2Num();
+	void setAccount2Num(String value);
+	void setAccount2NumNull();
+	int zGetAccount2NumAsInt();
+	boolean isAccountIdNull();
+	int getAccountId();
+	void setAccountId(int value);
+	void setAccountIdNull();
+	boolean isAccrualStartDateNull();
+	Timestamp getAccrualStartDate();
+	void setAccrualStartDate(Timestamp value);
+	void setAccrualStartDateNull();
+	long zGetAccrualStartDateAsLong();
+	boolean isAcctAggTypeNull();
+	String getAcctAggType();
+	void setAcctAggType(String value);
+	void setAcctAggTypeNull();
+	int zGetAcctAggTypeAsInt();
+	boolean isAmountNull();
+	double getAmount();
+	void setAmount(double value);
+	void setAmountNull();
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isBuySellIndNull();
+	String getBuySellInd();
+	void setBuySellInd(String value);
+	void setBuySellIndNull();
+	int zGetBuySellIndAsInt();
+	boolean isClearingAgentNull();
+	String getClearingAgent();
+	void setClearingAgent(String value);
+	void setClearingAgentNull();
+	int zGetClearingAgentAsInt();
+	boolean isCommitmentTypeCodeNull();
+	int getCommitmentTypeCode();
+	void setCommitmentTypeCode(int value);
+	void setCommitmentTypeCodeNull();
+	boolean isCompanyIdNull();
+	int getCompanyId();
+	void setCompanyId(int value);
+	void setCompanyIdNull();
+	boolean isCouponPaymentMethodNull();
+	int getCouponPaymentMethod();
+	void setCouponPaymentMethod(int value);
+	void setCouponPaymentMethodNull();
+	boolean isCustomerAcctNameNull();
+	String getCustomerAcctName();
+	void setCustomerAcctName(String value);
+	void setCustomerAcctNameNull();
+	int zGetCustomerAcctNameAsInt();
+	boolean isCustomerAcctNumNull();
+	String getCustomerAcctNum();
+	void setCustomerAcctNum(String value);
+	void setCustomerAcctNumNull();
+	int zGetCustomerAcctNumAsInt();
+	boolean isEndAmountNull();
+	double getEndAmount();
+	void setEndAmount(double value);
+	void setEndAmountNull();
+	boolean isEndDateNull();
+	Timestamp getEndDate();
+	void setEndDate(Timestamp value);
+	void setEndDateNull();
+	long zGetEndDateAsLong();
+	boolean isExclusionTypeCodeNull();
+	int getExclusionTypeCode();
+	void setExclusionTypeCode(int value);
+	void setExclusionTypeCodeNull();
+	boolean isForeignAmtNull();
+	double getForeignAmt();
+	void setForeignAmt(double value);
+	void setForeignAmtNull();
+	boolean isHasCollateralNull();
+	int getHasCollateral();
+	void setHasCollateral(int value);
+	void setHasCollateralNull();
+	boolean isHicAcctNumNull();
+	String getHicAcctNum();
+	void setHicAcctNum(String value);
+	void setHicAcctNumNull();
+	int zGetHicAcctNumAsInt();
+	boolean isIsGsccNettedNull();
+	int getIsGsccNetted();
+	void setIsGsccNetted(int value);
+	void setIsGsccNettedNull();
+	boolean isIsHicNull();
+	int getIsHic();
+	void setIsHic(int value);
+	void setIsHicNull();
+	boolean isIsInterestOnlyNull();
+	int getIsInterestOnly();
+	void setIsInterestOnly(int value);
+	void setIsInterestOnlyNull();
+	boolean isIsInternalTradeNull();
+	int getIsInternalTrade();
+	void setIsInternalTrade(int value);
+	void setIsInternalTradeNull();
+	boolean isIsMatchBookNull();
+	int getIsMatchBook();
+	void setIsMatchBook(int value);
+	void setIsMatchBookNull();
+	boolean isIsPermanentNull();
+	int getIsPermanent();
+	void setIsPermanent(int value);
+	void setIsPermanentNull();
+	boolean isIsTriPartyNull();
+	int getIsTriParty();
+	void setIsTriParty(int value);
+	void setIsTriPartyNull();
+	boolean isMarketValueNull();
+	double getMarketValue();
+	void setMarketValue(double value);
+	void setMarketValueNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isProductIdNull();
+	int getProductId();
+	void setProductId(int value);
+	void setProductIdNull();
+	boolean isQuantityNull();
+	double getQuantity();
+	void setQuantity(double value);
+	void setQuantityNull();
+	boolean isRecordTypeNull();
+	int getRecordType();
+	void setRecordType(int value);
+	void setRecordTypeNull();
+	boolean isRefDateNull();
+	int getRefDate();
+	void setRefDate(int value);
+	void setRefDateNull();
+	boolean isRefGenNumNull();
+	int getRefGenNum();
+	void setRefGenNum(int value);
+	void setRefGenNumNull();
+	boolean isRefPieceNumNull();
+	int getRefPieceNum();
+	void setRefPieceNum(int value);
+	void setRefPieceNumNull();
+	boolean isRefSeqNumNull();
+	int getRefSeqNum();
+	void setRefSeqNum(int value);
+	void setRefSeqNumNull();
+	boolean isRepoClassNull();
+	String getRepoClass();
+	void setRepoClass(String value);
+	void setRepoClassNull();
+	int zGetRepoClassAsInt();
+	boolean isRepoIdNull();
+	String getRepoId();
+	void setRepoId(String value);
+	void setRepoIdNull();
+	int zGetRepoIdAsInt();
+	boolean isRepoRateNull();
+	double getRepoRate();
+	void setRepoRate(double value);
+	void setRepoRateNull();
+	boolean isSourceNull();
+	String getSource();
+	void setSource(String value);
+	void setSourceNull();
+	int zGetSourceAsInt();
+	boolean isSpecialTradeTypeNull();
+	int getSpecialTradeType();
+	void setSpecialTradeType(int value);
+	void setSpecialTradeTypeNull();
+	boolean isStartDateNull();
+	Timestamp getStartDate();
+	void setStartDate(Timestamp value);
+	void setStartDateNull();
+	long zGetStartDateAsLong();
+	boolean isTradeCurrencyCodeNull();
+	String getTradeCurrencyCode();
+	void setTradeCurrencyCode(String value);
+	void setTradeCurrencyCodeNull();
+	int zGetTradeCurrencyCodeAsInt();
+	boolean isTradeCurrencyRateNull();
+	double getTradeCurrencyRate();
+	void setTradeCurrencyRate(double value);
+	void setTradeCurrencyRateNull();
+	boolean isTradeDateNull();
+	Timestamp getTradeDate();
+	void setTradeDate(Timestamp value);
+	void setTradeDateNull();
+	long zGetTradeDateAsLong();
+	boolean isTradingAcctCodeNull();
+	String getTradingAcctCode();
+	void setTradingAcctCode(String value);
+	void setTradingAcctCodeNull();
+	int zGetTradingAcctCodeAsInt();
+	boolean isTransactionCodesNull();
+	String getTransactionCodes();
+	void setTransactionCodes(String value);
+	void setTransactionCodesNull();
+	int zGetTransactionCodesAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class BcpRepoTradeDataOnHeap implements BcpRepoTradeData
+	{
+		private byte _dataVersion;
+		private short isNullBits0 = 0;
+		private int account2Id;
+		private String account2Num;
+		private int accountId;
+		private Timestamp accrualStartDate;
+		private String acctAggType;
+		private double amount;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private String buySellInd;
+		private String clearingAgent;
+		private int commitmentTypeCode;
+		private int companyId;
+		private int couponPaymentMethod;
+		private String customerAcctName;
+		private String customerAcctNum;
+		private double endAmount;
+		private Timestamp endDate;
+		private int exclusionTypeCode;
+		private double foreignAmt;
+		private int hasCollateral;
+		private String hicAcctNum;
+		private int isGsccNetted;
+		private int isHic;
+		private int isInterestOnly;
+		private int isInternalTrade;
+		private int isMatchBook;
+		private int isPermanent;
+		private int isTriParty;
+		private double marketValue;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int productId;
+		private double quantity;
+		private int recordType;
+		private int refDate;
+		private int refGenNum;
+		private int refPieceNum;
+		private int refSeqNum;
+		private String repoClass;
+		private String repoId;
+		private double repoRate;
+		private String source;
+		private int specialTradeType;
+		private Timestamp startDate;
+		private String tradeCurrencyCode;
+		private double tradeCurrencyRate;
+		private Timestamp tradeDate;
+		private String tradingAcctCode;
+		private String transactionCodes;
+		public boolean isAccount2NumNull()
+		{
+			return this.getAccount2Num() == null;
+		}
+
+		public boolean isAccrualStartDateNull()
+		{
+			return this.getAccrualStartDate() == null;
+		}
+
+		public boolean isAcctAggTypeNull()
+		{
+			return this.getAcctAggType() == null;
+		}
+
+		public boolean isAmountNull()
+		{
+			return false;
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isBuySellIndNull()
+		{
+			return this.getBuySellInd() == null;
+		}
+
+		public boolean isClearingAgentNull()
+		{
+			return this.getClearingAgent() == null;
+		}
+
+		public boolean isCommitmentTypeCodeNull()
+		{
+			return false;
+		}
+
+		public boolean isCompanyIdNull()
+		{
+			return false;
+		}
+
+		public boolean isCustomerAcctNameNull()
+		{
+			return this.getCustomerAcctName() == null;
+		}
+
+		public boolean isCustomerAcctNumNull()
+		{
+			return this.getCustomerAcctNum() == null;
+		}
+
+		public boolean isEndDateNull()
+		{
+			return this.getEndDate() == null;
+		}
+
+		public boolean isHasCollateralNull()
+		{
+			return false;
+		}
+
+		public boolean isHicAcctNumNull()
+		{
+			return this.getHicAcctNum() == null;
+		}
+
+		public boolean isIsHicNull()
+		{
+			return false;
+		}
+
+		public boolean isIsInterestOnlyNull()
+		{
+			return false;
+		}
+
+		public boolean isIsInternalTradeNull()
+		{
+			return false;
+		}
+
+		public boolean isIsMatchBookNull()
+		{
+			return false;
+		}
+
+		public boolean isIsPermanentNull()
+		{
+			return false;
+		}
+
+		public boolean isIsTriPartyNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isProductIdNull()
+		{
+			return false;
+		}
+
+		public boolean isQuantityNull()
+		{
+			return false;
+		}
+
+		public boolean isRecordTypeNull()
+		{
+			return false;
+		}
+
+		public boolean isRefDateNull()
+		{
+			return false;
+		}
+
+		public boolean isRefGenNumNull()
+		{
+			return false;
+		}
+
+		public boolean isRefPieceNumNull()
+		{
+			return false;
+		}
+
+		public boolean isRefSeqNumNull()
+		{
+			return false;
+		}
+
+		public boolean isRepoClassNull()
+		{
+			return this.getRepoClass() == null;
+		}
+
+		public boolean isRepoIdNull()
+		{
+			return this.getRepoId() == null;
+		}
+
+		public boolean isRepoRateNull()
+		{
+			return false;
+		}
+
+		public boolean isSourceNull()
+		{
+			return this.getSource() == null;
+		}
+
+		public boolean isStartDateNull()
+		{
+			return this.getStartDate() == null;
+		}
+
+		public boolean isTradeCurrencyCodeNull()
+		{
+			return this.getTradeCurrencyCode() == null;
+		}
+
+		public boolean isTradeDateNull()
+		{
+			return this.getTradeDate() == null;
+		}
+
+		public boolean isTradingAcctCodeNull()
+		{
+			return this.getTradingAcctCode() == null;
+		}
+
+		public boolean isTransactionCodesNull()
+		{
+			return this.getTransactionCodes() == null;
+		}
+
+		public boolean isAccountIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isAccount2IdNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public boolean isMarketValueNull()
+		{
+			return (isNullBits0 & 1 << 2) != 0 ;
+		}
+
+		public boolean isTradeCurrencyRateNull()
+		{
+			return (isNullBits0 & 1 << 3) != 0 ;
+		}
+
+		public boolean isForeignAmtNull()
+		{
+			return (isNullBits0 & 1 << 4) != 0 ;
+		}
+
+		public boolean isEndAmountNull()
+		{
+			return (isNullBits0 & 1 << 5) != 0 ;
+		}
+
+		public boolean isSpecialTradeTypeNull()
+		{
+			return (isNullBits0 & 1 << 6) != 0 ;
+		}
+
+		public boolean isCouponPaymentMethodNull()
+		{
+			return (isNullBits0 & 1 << 7) != 0 ;
+		}
+
+		public boolean isIsGsccNettedNull()
+		{
+			return (isNullBits0 & 1 << 8) != 0 ;
+		}
+
+		public boolean isExclusionTypeCodeNull()
+		{
+			return (isNullBits0 & 1 << 9) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.account2Id);
+			out.writeObject(this.account2Num);
+			out.writeInt(this.accountId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.accrualStartDate);
+			out.writeObject(this.acctAggType);
+			out.writeDouble(this.amount);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BcpRepoTradeFinder.businessDate().getInfinityDate());
+			out.writeObject(this.buySellInd);
+			out.writeObject(this.clearingAgent);
+			out.writeInt(this.commitmentTypeCode);
+			out.writeInt(this.companyId);
+			out.writeInt(this.couponPaymentMethod);
+			out.writeObject(this.customerAcctName);
+			out.writeObject(this.customerAcctNum);
+			out.writeDouble(this.endAmount);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.endDate);
+			out.writeInt(this.exclusionTypeCode);
+			out.writeDouble(this.foreignAmt);
+			out.writeInt(this.hasCollateral);
+			out.writeObject(this.hicAcctNum);
+			out.writeInt(this.isGsccNetted);
+			out.writeInt(this.isHic);
+			out.writeInt(this.isInterestOnly);
+			out.writeInt(this.isInternalTrade);
+			out.writeInt(this.isMatchBook);
+			out.writeInt(this.isPermanent);
+			out.writeInt(this.isTriParty);
+			out.writeDouble(this.marketValue);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BcpRepoTradeFinder.processingDate().getInfinityDate());
+			out.writeInt(this.productId);
+			out.writeDouble(this.quantity);
+			out.writeInt(this.recordType);
+			out.writeInt(this.refDate);
+			out.writeInt(this.refGenNum);
+			out.writeInt(this.refPieceNum);
+			out.writeInt(this.refSeqNum);
+			out.writeObject(this.repoClass);
+			out.writeObject(this.repoId);
+			out.writeDouble(this.repoRate);
+			out.writeObject(this.source);
+			out.writeInt(this.specialTradeType);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.startDate);
+			out.writeObject(this.tradeCurrencyCode);
+			out.writeDouble(this.tradeCurrencyRate);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.tradeDate);
+			out.writeObject(this.tradingAcctCode);
+			out.writeObject(this.transactionCodes);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeShort(this.isNullBits0);
+		}
+
+		public int getAccount2Id()
+		{
+			return this.account2Id;
+		}
+
+		public void setAccount2Id(int value)
+		{
+			this.account2Id = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public String getAccount2Num()
+		{
+			return this.account2Num;
+		}
+
+		public int zGetAccount2NumAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(account2Num);
+		}
+
+		public void setAccount2Num(String value)
+		{
+			this.account2Num = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setAccount2NumNull()
+		{
+			this.setAccount2Num(null);
+		}
+
+		public int getAccountId()
+		{
+			return this.accountId;
+		}
+
+		public void setAccountId(int value)
+		{
+			this.accountId = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1));
+		}
+
+		public Timestamp getAccrualStartDate()
+		{
+			return this.accrualStartDate;
+		}
+
+		public long zGetAccrualStartDateAsLong()
+		{
+			if (accrualStartDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return accrualStartDate.getTime();
+		}
+
+		public void setAccrualStartDate(Timestamp value)
+		{
+			this.accrualStartDate = TimestampPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+		}
+
+		public void setAccrualStartDateNull()
+		{
+			this.setAccrualStartDate(null);
+		}
+
+		public String getAcctAggType()
+		{
+			return this.acctAggType;
+		}
+
+		public int zGetAcctAggTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(acctAggType);
+		}
+
+		public void setAcctAggType(String value)
+		{
+			this.acctAggType = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setAcctAggTypeNull()
+		{
+			this.setAcctAggType(null);
+		}
+
+		public double getAmount()
+		{
+			return this.amount;
+		}
+
+		public void setAmount(double value)
+		{
+			this.amount = value;
+		}
+
+		public void setAmountNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getBuySellInd()
+		{
+			return this.buySellInd;
+		}
+
+		public int zGetBuySellIndAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(buySellInd);
+		}
+
+		public void setBuySellInd(String value)
+		{
+			this.buySellInd = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setBuySellIndNull()
+		{
+			this.setBuySellInd(null);
+		}
+
+		public String getClearingAgent()
+		{
+			return this.clearingAgent;
+		}
+
+		public int zGetClearingAgentAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(clearingAgent);
+		}
+
+		public void setClearingAgent(String value)
+		{
+			this.clearingAgent = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setClearingAgentNull()
+		{
+			this.setClearingAgent(null);
+		}
+
+		public int getCommitmentTypeCode()
+		{
+			return this.commitmentTypeCode;
+		}
+
+		public void setCommitmentTypeCode(int value)
+		{
+			this.commitmentTypeCode = value;
+		}
+
+		public void setCommitmentTypeCodeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getCompanyId()
+		{
+			return this.companyId;
+		}
+
+		public void setCompanyId(int value)
+		{
+			this.companyId = value;
+		}
+
+		public void setCompanyIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getCouponPaymentMethod()
+		{
+			return this.couponPaymentMethod;
+		}
+
+		public void setCouponPaymentMethod(int value)
+		{
+			this.couponPaymentMethod = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 7));
+		}
+
+		public String getCustomerAcctName()
+		{
+			return this.customerAcctName;
+		}
+
+		public int zGetCustomerAcctNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(customerAcctName);
+		}
+
+		public void setCustomerAcctName(String value)
+		{
+			this.customerAcctName = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setCustomerAcctNameNull()
+		{
+			this.setCustomerAcctName(null);
+		}
+
+		public String getCustomerAcctNum()
+		{
+			return this.customerAcctNum;
+		}
+
+		public int zGetCustomerAcctNumAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(customerAcctNum);
+		}
+
+		public void setCustomerAcctNum(String value)
+		{
+			this.customerAcctNum = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setCustomerAcctNumNull()
+		{
+			this.setCustomerAcctNum(null);
+		}
+
+		public double getEndAmount()
+		{
+			return this.endAmount;
+		}
+
+		public void setEndAmount(double value)
+		{
+			this.endAmount = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 5));
+		}
+
+		public Timestamp getEndDate()
+		{
+			return this.endDate;
+		}
+
+		public long zGetEndDateAsLong()
+		{
+			if (endDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return endDate.getTime();
+		}
+
+		public void setEndDate(Timestamp value)
+		{
+			this.endDate = TimestampPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+		}
+
+		public void setEndDateNull()
+		{
+			this.setEndDate(null);
+		}
+
+		public int getExclusionTypeCode()
+		{
+			return this.exclusionTypeCode;
+		}
+
+		public void setExclusionTypeCode(int value)
+		{
+			this.exclusionTypeCode = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 9));
+		}
+
+		public double getForeignAmt()
+		{
+			return this.foreignAmt;
+		}
+
+		public void setForeignAmt(double value)
+		{
+			this.foreignAmt = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 4));
+		}
+
+		public int getHasCollateral()
+		{
+			return this.hasCollateral;
+		}
+
+		public void setHasCollateral(int value)
+		{
+			this.hasCollateral = value;
+		}
+
+		public void setHasCollateralNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getHicAcctNum()
+		{
+			return this.hicAcctNum;
+		}
+
+		public int zGetHicAcctNumAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(hicAcctNum);
+		}
+
+		public void setHicAcctNum(String value)
+		{
+			this.hicAcctNum = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setHicAcctNumNull()
+		{
+			this.setHicAcctNum(null);
+		}
+
+		public int getIsGsccNetted()
+		{
+			return this.isGsccNetted;
+		}
+
+		public void setIsGsccNetted(int value)
+		{
+			this.isGsccNetted = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 8));
+		}
+
+		public int getIsHic()
+		{
+			return this.isHic;
+		}
+
+		public void setIsHic(int value)
+		{
+			this.isHic = value;
+		}
+
+		public void setIsHicNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsInterestOnly()
+		{
+			return this.isInterestOnly;
+		}
+
+		public void setIsInterestOnly(int value)
+		{
+			this.isInterestOnly = value;
+		}
+
+		public void setIsInterestOnlyNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsInternalTrade()
+		{
+			return this.isInternalTrade;
+		}
+
+		public void setIsInternalTrade(int value)
+		{
+			this.isInternalTrade = value;
+		}
+
+		public void setIsInternalTradeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsMatchBook()
+		{
+			return this.isMatchBook;
+		}
+
+		public void setIsMatchBook(int value)
+		{
+			this.isMatchBook = value;
+		}
+
+		public void setIsMatchBookNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsPermanent()
+		{
+			return this.isPermanent;
+		}
+
+		public void setIsPermanent(int value)
+		{
+			this.isPermanent = value;
+		}
+
+		public void setIsPermanentNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsTriParty()
+		{
+			return this.isTriParty;
+		}
+
+		public void setIsTriParty(int value)
+		{
+			this.isTriParty = value;
+		}
+
+		public void setIsTriPartyNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getMarketValue()
+		{
+			return this.marketValue;
+		}
+
+		public void setMarketValue(double value)
+		{
+			this.marketValue = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 2));
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProductId()
+		{
+			return this.productId;
+		}
+
+		public void setProductId(int value)
+		{
+			this.productId = value;
+		}
+
+		public void setProductIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getQuantity()
+		{
+			return this.quantity;
+		}
+
+		public void setQuantity(double value)
+		{
+			this.quantity = value;
+		}
+
+		public void setQuantityNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRecordType()
+		{
+			return this.recordType;
+		}
+
+		public void setRecordType(int value)
+		{
+			this.recordType = value;
+		}
+
+		public void setRecordTypeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRefDate()
+		{
+			return this.refDate;
+		}
+
+		public void setRefDate(int value)
+		{
+			this.refDate = value;
+		}
+
+		public void setRefDateNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRefGenNum()
+		{
+			return this.refGenNum;
+		}
+
+		public void setRefGenNum(int value)
+		{
+			this.refGenNum = value;
+		}
+
+		public void setRefGenNumNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRefPieceNum()
+		{
+			return this.refPieceNum;
+		}
+
+		public void setRefPieceNum(int value)
+		{
+			this.refPieceNum = value;
+		}
+
+		public void setRefPieceNumNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRefSeqNum()
+		{
+			return this.refSeqNum;
+		}
+
+		public void setRefSeqNum(int value)
+		{
+			this.refSeqNum = value;
+		}
+
+		public void setRefSeqNumNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getRepoClass()
+		{
+			return this.repoClass;
+		}
+
+		public int zGetRepoClassAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(repoClass);
+		}
+
+		public void setRepoClass(String value)
+		{
+			this.repoClass = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setRepoClassNull()
+		{
+			this.setRepoClass(null);
+		}
+
+		public String getRepoId()
+		{
+			return this.repoId;
+		}
+
+		public int zGetRepoIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(repoId);
+		}
+
+		public void setRepoId(String value)
+		{
+			this.repoId = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setRepoIdNull()
+		{
+			this.setRepoId(null);
+		}
+
+		public double getRepoRate()
+		{
+			return this.repoRate;
+		}
+
+		public void setRepoRate(double value)
+		{
+			this.repoRate = value;
+		}
+
+		public void setRepoRateNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getSource()
+		{
+			return this.source;
+		}
+
+		public int zGetSourceAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(source);
+		}
+
+		public void setSource(String value)
+		{
+			this.source = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setSourceNull()
+		{
+			this.setSource(null);
+		}
+
+		public int getSpecialTradeType()
+		{
+			return this.specialTradeType;
+		}
+
+		public void setSpecialTradeType(int value)
+		{
+			this.specialTradeType = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 6));
+		}
+
+		public Timestamp getStartDate()
+		{
+			return this.startDate;
+		}
+
+		public long zGetStartDateAsLong()
+		{
+			if (startDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return startDate.getTime();
+		}
+
+		public void setStartDate(Timestamp value)
+		{
+			this.startDate = TimestampPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+		}
+
+		public void setStartDateNull()
+		{
+			this.setStartDate(null);
+		}
+
+		public String getTradeCurrencyCode()
+		{
+			return this.tradeCurrencyCode;
+		}
+
+		public int zGetTradeCurrencyCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(tradeCurrencyCode);
+		}
+
+		public void setTradeCurrencyCode(String value)
+		{
+			this.tradeCurrencyCode = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setTradeCurrencyCodeNull()
+		{
+			this.setTradeCurrencyCode(null);
+		}
+
+		public double getTradeCurrencyRate()
+		{
+			return this.tradeCurrencyRate;
+		}
+
+		public void setTradeCurrencyRate(double value)
+		{
+			this.tradeCurrencyRate = value;
+			isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 3));
+		}
+
+		public Timestamp getTradeDate()
+		{
+			return this.tradeDate;
+		}
+
+		public long zGetTradeDateAsLong()
+		{
+			if (tradeDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return tradeDate.getTime();
+		}
+
+		public void setTradeDate(Timestamp value)
+		{
+			this.tradeDate = TimestampPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+		}
+
+		public void setTradeDateNull()
+		{
+			this.setTradeDate(null);
+		}
+
+		public String getTradingAcctCode()
+		{
+			return this.tradingAcctCode;
+		}
+
+		public int zGetTradingAcctCodeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(tradingAcctCode);
+		}
+
+		public void setTradingAcctCode(String value)
+		{
+			this.tradingAcctCode = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setTradingAcctCodeNull()
+		{
+			this.setTradingAcctCode(null);
+		}
+
+		public String getTransactionCodes()
+		{
+			return this.transactionCodes;
+		}
+
+		public int zGetTransactionCodesAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(transactionCodes);
+		}
+
+		public void setTransactionCodes(String value)
+		{
+			this.transactionCodes = StringPool.getInstance().getOrAddToCache(value, BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void setTransactionCodesNull()
+		{
+			this.setTransactionCodes(null);
+		}
+
+		public void setAccountIdNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1);
+		}
+
+		public void setAccount2IdNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 1);
+		}
+
+		public void setMarketValueNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 2);
+		}
+
+		public void setTradeCurrencyRateNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 3);
+		}
+
+		public void setForeignAmtNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 4);
+		}
+
+		public void setEndAmountNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 5);
+		}
+
+		public void setSpecialTradeTypeNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 6);
+		}
+
+		public void setCouponPaymentMethodNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 7);
+		}
+
+		public void setIsGsccNettedNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 8);
+		}
+
+		public void setExclusionTypeCodeNull()
+		{
+			isNullBits0 = (short)((int)isNullBits0 | 1 << 9);
+		}
+
+		public short zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(short newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(BcpRepoTradeDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.account2Id = this.account2Id;
+			copy.account2Num = this.account2Num;
+			copy.accountId = this.accountId;
+			copy.accrualStartDate = this.accrualStartDate;
+			copy.acctAggType = this.acctAggType;
+			copy.amount = this.amount;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.buySellInd = this.buySellInd;
+			copy.clearingAgent = this.clearingAgent;
+			copy.commitmentTypeCode = this.commitmentTypeCode;
+			copy.companyId = this.companyId;
+			copy.couponPaymentMethod = this.couponPaymentMethod;
+			copy.customerAcctName = this.customerAcctName;
+			copy.customerAcctNum = this.customerAcctNum;
+			copy.endAmount = this.endAmount;
+			copy.endDate = this.endDate;
+			copy.exclusionTypeCode = this.exclusionTypeCode;
+			copy.foreignAmt = this.foreignAmt;
+			copy.hasCollateral = this.hasCollateral;
+			copy.hicAcctNum = this.hicAcctNum;
+			copy.isGsccNetted = this.isGsccNetted;
+			copy.isHic = this.isHic;
+			copy.isInterestOnly = this.isInterestOnly;
+			copy.isInternalTrade = this.isInternalTrade;
+			copy.isMatchBook = this.isMatchBook;
+			copy.isPermanent = this.isPermanent;
+			copy.isTriParty = this.isTriParty;
+			copy.marketValue = this.marketValue;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.productId = this.productId;
+			copy.quantity = this.quantity;
+			copy.recordType = this.recordType;
+			copy.refDate = this.refDate;
+			copy.refGenNum = this.refGenNum;
+			copy.refPieceNum = this.refPieceNum;
+			copy.refSeqNum = this.refSeqNum;
+			copy.repoClass = this.repoClass;
+			copy.repoId = this.repoId;
+			copy.repoRate = this.repoRate;
+			copy.source = this.source;
+			copy.specialTradeType = this.specialTradeType;
+			copy.startDate = this.startDate;
+			copy.tradeCurrencyCode = this.tradeCurrencyCode;
+			copy.tradeCurrencyRate = this.tradeCurrencyRate;
+			copy.tradeDate = this.tradeDate;
+			copy.tradingAcctCode = this.tradingAcctCode;
+			copy.transactionCodes = this.transactionCodes;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readShort();
+			this.account2Id = in.readInt();
+			this.account2Num = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.accountId = in.readInt();
+			this.accrualStartDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.acctAggType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.amount = in.readDouble();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BcpRepoTradeFinder.businessDate().getInfinityDate()), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.buySellInd = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.clearingAgent = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.commitmentTypeCode = in.readInt();
+			this.companyId = in.readInt();
+			this.couponPaymentMethod = in.readInt();
+			this.customerAcctName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.customerAcctNum = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.endAmount = in.readDouble();
+			this.endDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.exclusionTypeCode = in.readInt();
+			this.foreignAmt = in.readDouble();
+			this.hasCollateral = in.readInt();
+			this.hicAcctNum = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.isGsccNetted = in.readInt();
+			this.isHic = in.readInt();
+			this.isInterestOnly = in.readInt();
+			this.isInternalTrade = in.readInt();
+			this.isMatchBook = in.readInt();
+			this.isPermanent = in.readInt();
+			this.isTriParty = in.readInt();
+			this.marketValue = in.readDouble();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BcpRepoTradeFinder.processingDate().getInfinityDate()), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.productId = in.readInt();
+			this.quantity = in.readDouble();
+			this.recordType = in.readInt();
+			this.refDate = in.readInt();
+			this.refGenNum = in.readInt();
+			this.refPieceNum = in.readInt();
+			this.refSeqNum = in.readInt();
+			this.repoClass = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.repoId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.repoRate = in.readDouble();
+			this.source = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.specialTradeType = in.readInt();
+			this.startDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.tradeCurrencyCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.tradeCurrencyRate = in.readDouble();
+			this.tradeDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.tradingAcctCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+			this.transactionCodes = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final BcpRepoTradeData otherData = (BcpRepoTradeData) other;
+			if (getCompanyId() != otherData.getCompanyId())
+			{
+				return false;
+			}
+
+			if (!isRepoIdNull() ? !getRepoId().equals(otherData.getRepoId()) : !otherData.isRepoIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, BcpRepoTradeFinder.businessDate().getInfinityDate());
+			out.writeInt(this.companyId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, BcpRepoTradeFinder.processingDate().getInfinityDate());
+			out.writeObject(this.repoId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BcpRepoTradeFinder.businessDate().getInfinityDate()), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.companyId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, BcpRepoTradeFinder.processingDate().getInfinityDate()), BcpRepoTradeFinder.isFullCache(), BcpRepoTradeFinder.isOffHeap());
+			this.repoId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), BcpRepoTradeFinder.isFullCache());
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			BcpRepoTradeDataOffHeap data = new BcpRepoTradeDataOffHeap();
+			data.setAccount2Id(this.getAccount2Id());
+			if (this.isAccount2IdNull()) data.setAccount2IdNull();
+			data.setAccount2Num(this.getAccount2Num());
+			data.setAccountId(this.getAccountId());
+			if (this.isAccountIdNull()) data.setAccountIdNull();
+			data.setAccrualStartDate(this.getAccrualStartDate());
+			data.setAcctAggType(this.getAcctAggType());
+			data.setAmount(this.getAmount());
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setBuySellInd(this.getBuySellInd());
+			data.setClearingAgent(this.getClearingAgent());
+			data.setCommitmentTypeCode(this.getCommitmentTypeCode());
+			data.setCompanyId(this.getCompanyId());
+			data.setCouponPaymentMethod(this.getCouponPaymentMethod());
+			if (this.isCouponPaymentMethodNull()) data.setCouponPaymentMethodNull();
+			data.setCustomerAcctName(this.getCustomerAcctName());
+			data.setCustomerAcctNum(this.getCustomerAcctNum());
+			data.setEndAmount(this.getEndAmount());
+			if (this.isEndAmountNull()) data.setEndAmountNull();
+			data.setEndDate(this.getEndDate());
+			data.setExclusionTypeCode(this.getExclusionTypeCode());
+			if (this.isExclusionTypeCodeNull()) data.setExclusionTypeCodeNull();
+			data.setForeignAmt(this.getForeignAmt());
+			if (this.isForeignAmtNull()) data.setForeignAmtNull();
+			data.setHasCollateral(this.getHasCollateral());
+			data.setHicAcctNum(this.getHicAcctNum());
+			data.setIsGsccNetted(this.getIsGsccNetted());
+			if (this.isIsGsccNettedNull()) data.setIsGsccNettedNull();
+			data.setIsHic(this.getIsHic());
+			data.setIsInterestOnly(this.getIsInterestOnly());
+			data.setIsInternalTrade(this.getIsInternalTrade());
+			data.setIsMatchBook(this.getIsMatchBook());
+			data.setIsPermanent(this.getIsPermanent());
+			data.setIsTriParty(this.getIsTriParty());
+			data.setMarketValue(this.getMarketValue());
+			if (this.isMarketValueNull()) data.setMarketValueNull();
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setProductId(this.getProductId());
+			data.setQuantity(this.getQuantity());
+			data.setRecordType(this.getRecordType());
+			data.setRefDate(this.getRefDate());
+			data.setRefGenNum(this.getRefGenNum());
+			data.setRefPieceNum(this.getRefPieceNum());
+			data.setRefSeqNum(this.getRefSeqNum());
+			data.setRepoClass(this.getRepoClass());
+			data.setRepoId(this.getRepoId());
+			data.setRepoRate(this.getRepoRate());
+			data.setSource(this.getSource());
+			data.setSpecialTradeType(this.getSpecialTradeType());
+			if (this.isSpecialTradeTypeNull()) data.setSpecialTradeTypeNull();
+			data.setStartDate(this.getStartDate());
+			data.setTradeCurrencyCode(this.getTradeCurrencyCode());
+			data.setTradeCurrencyRate(this.getTradeCurrencyRate());
+			if (this.isTradeCurrencyRateNull()) data.setTradeCurrencyRateNull();
+			data.setTradeDate(this.getTradeDate());
+			data.setTradingAcctCode(this.getTradingAcctCode());
+			data.setTransactionCodes(this.getTransactionCodes());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final BcpRepoTradeData bcpRepoTradeData = (BcpRepoTradeData) newData;
+			this.setAccount2Id(bcpRepoTradeData.getAccount2Id());
+			if (bcpRepoTradeData.isAccount2IdNull()) this.setAccount2IdNull();
+			this.setAccount2Num(bcpRepoTradeData.getAccount2Num());
+			this.setAccountId(bcpRepoTradeData.getAccountId());
+			if (bcpRepoTradeData.isAccountIdNull()) this.setAccountIdNull();
+			this.setAccrualStartDate(bcpRepoTradeData.getAccrualStartDate());
+			this.setAcctAggType(bcpRepoTradeData.getAcctAggType());
+			this.setAmount(bcpRepoTradeData.getAmount());
+			this.setBusinessDateFrom(bcpRepoTradeData.getBusinessDateFrom());
+			this.setBusinessDateTo(bcpRepoTradeData.getBusinessDateTo());
+			this.setBuySellInd(bcpRepoTradeData.getBuySellInd());
+			this.setClearingAgent(bcpRepoTradeData.getClearingAgent());
+			this.setCommitmentTypeCode(bcpRepoTradeData.getCommitmentTypeCode());
+			this.setCouponPaymentMethod(bcpRepoTradeData.getCouponPaymentMethod());
+			if (bcpRepoTradeData.isCouponPaymentMethodNull()) this.setCouponPaymentMethodNull();
+			this.setCustomerAcctName(bcpRepoTradeData.getCustomerAcctName());
+			this.setCustomerAcctNum(bcpRepoTradeData.getCustomerAcctNum());
+			this.setEndAmount(bcpRepoTradeData.getEndAmount());
+			if (bcpRepoTradeData.isEndAmountNull()) this.setEndAmountNull();
+			this.setEndDate(bcpRepoTradeData.getEndDate());
+			this.setExclusionTypeCode(bcpRepoTradeData.getExclusionTypeCode());
+			if (bcpRepoTradeData.isExclusionTypeCodeNull()) this.setExclusionTypeCodeNull();
+			this.setForeignAmt(bcpRepoTradeData.getForeignAmt());
+			if (bcpRepoTradeData.isForeignAmtNull()) this.setForeignAmtNull();
+			this.setHasCollateral(bcpRepoTradeData.getHasCollateral());
+			this.setHicAcctNum(bcpRepoTradeData.getHicAcctNum());
+			this.setIsGsccNetted(bcpRepoTradeData.getIsGsccNetted());
+			if (bcpRepoTradeData.isIsGsccNettedNull()) this.setIsGsccNettedNull();
+			this.setIsHic(bcpRepoTradeData.getIsHic());
+			this.setIsInterestOnly(bcpRepoTradeData.getIsInterestOnly());
+			this.setIsInternalTrade(bcpRepoTradeData.getIsInternalTrade());
+			this.setIsMatchBook(bcpRepoTradeData.getIsMatchBook());
+			this.setIsPermanent(bcpRepoTradeData.getIsPermanent());
+			this.setIsTriParty(bcpRepoTradeData.getIsTriParty());
+			this.setMarketValue(bcpRepoTradeData.getMarketValue());
+			if (bcpRepoTradeData.isMarketValueNull()) this.setMarketValueNull();
+			this.setProcessingDateFrom(bcpRepoTradeData.getProcessingDateFrom());
+			this.setProcessingDateTo(bcpRepoTradeData.getProcessingDateTo());
+			this.setProductId(bcpRepoTradeData.getProductId());
+			this.setQuantity(bcpRepoTradeData.getQuantity());
+			this.setRecordType(bcpRepoTradeData.getRecordType());
+			this.setRefDate(bcpRepoTradeData.getRefDate());
+			this.setRefGenNum(bcpRepoTradeData.getRefGenNum());
+			this.setRefPieceNum(bcpRepoTradeData.getRefPieceNum());
+			this.setRefSeqNum(bcpRepoTradeData.getRefSeqNum());
+			this.setRepoClass(bcpRepoTradeData.getRepoClass());
+			this.setRepoRate(bcpRepoTradeData.getRepoRate());
+			this.setSource(bcpRepoTradeData.getSource());
+			this.setSpecialTradeType(bcpRepoTradeData.getSpecialTradeType());
+			if (bcpRepoTradeData.isSpecialTradeTypeNull()) this.setSpecialTradeTypeNull();
+			this.setStartDate(bcpRepoTradeData.getStartDate());
+			this.setTradeCurrencyCode(bcpRepoTradeData.getTradeCurrencyCode());
+			this.setTradeCurrencyRate(bcpRepoTradeData.getTradeCurrencyRate());
+			if (bcpRepoTradeData.isTradeCurrencyRateNull()) this.setTradeCurrencyRateNull();
+			this.setTradeDate(bcpRepoTradeData.getTradeDate());
+			this.setTradingAcctCode(bcpRepoTradeData.getTradingAcctCode());
+			this.setTransactionCodes(bcpRepoTradeData.getTransactionCodes());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final BcpRepoTradeData other = (BcpRepoTradeData) newData;
+			if ( isAccount2IdNull() != other.isAccount2IdNull() || getAccount2Id() != other.getAccount2Id())
+			{
+				return true;
+			}
+
+			if (!isAccount2NumNull() ? !getAccount2Num().equals(other.getAccount2Num()) : !other.isAccount2NumNull())
+			{
+				return true;
+			}
+
+			if ( isAccountIdNull() != other.isAccountIdNull() || getAccountId() != other.getAccountId())
+			{
+				return true;
+			}
+
+			if (!isAccrualStartDateNull() ? !getAccrualStartDate().equals(other.getAccrualStartDate()) : !other.isAccrualStartDateNull())
+			{
+				return true;
+			}
+
+			if (!isAcctAggTypeNull() ? !getAcctAggType().equals(other.getAcctAggType()) : !other.isAcctAggTypeNull())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getAmount() - other.getAmount()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isBuySellIndNull() ? !getBuySellInd().equals(other.getBuySellInd()) : !other.isBuySellIndNull())
+			{
+				return true;
+			}
+
+			if (!isClearingAgentNull() ? !getClearingAgent().equals(other.getClearingAgent()) : !other.isClearingAgentNull())
+			{
+				return true;
+			}
+
+			if ( getCommitmentTypeCode() != other.getCommitmentTypeCode())
+			{
+				return true;
+			}
+
+			if ( isCouponPaymentMethodNull() != other.isCouponPaymentMethodNull() || getCouponPaymentMethod() != other.getCouponPaymentMethod())
+			{
+				return true;
+			}
+
+			if (!isCustomerAcctNameNull() ? !getCustomerAcctName().equals(other.getCustomerAcctName()) : !other.isCustomerAcctNameNull())
+			{
+				return true;
+			}
+
+			if (!isCustomerAcctNumNull() ? !getCustomerAcctNum().equals(other.getCustomerAcctNum()) : !other.isCustomerAcctNumNull())
+			{
+				return true;
+			}
+
+			if ( isEndAmountNull() != other.isEndAmountNull() || Math.abs(getEndAmount() - other.getEndAmount()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isEndDateNull() ? !getEndDate().equals(other.getEndDate()) : !other.isEndDateNull())
+			{
+				return true;
+			}
+
+			if ( isExclusionTypeCodeNull() != other.isExclusionTypeCodeNull() || getExclusionTypeCode() != other.getExclusionTypeCode())
+			{
+				return true;
+			}
+
+			if ( isForeignAmtNull() != other.isForeignAmtNull() || Math.abs(getForeignAmt() - other.getForeignAmt()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getHasCollateral() != other.getHasCollateral())
+			{
+				return true;
+			}
+
+			if (!isHicAcctNumNull() ? !getHicAcctNum().equals(other.getHicAcctNum()) : !other.isHicAcctNumNull())
+			{
+				return true;
+			}
+
+			if ( isIsGsccNettedNull() != other.isIsGsccNettedNull() || getIsGsccNetted() != other.getIsGsccNetted())
+			{
+				return true;
+			}
+
+			if ( getIsHic() != other.getIsHic())
+			{
+				return true;
+			}
+
+			if ( getIsInterestOnly() != other.getIsInterestOnly())
+			{
+				return true;
+			}
+
+			if ( getIsInternalTrade() != other.getIsInternalTrade())
+			{
+				return true;
+			}
+
+			if ( getIsMatchBook() != other.getIsMatchBook())
+			{
+				return true;
+			}
+
+			if ( getIsPermanent() != other.getIsPermanent())
+			{
+				return true;
+			}
+
+			if ( getIsTriParty() != other.getIsTriParty())
+			{
+				return true;
+			}
+
+			if ( isMarketValueNull() != other.isMarketValueNull() || Math.abs(getMarketValue() - other.getMarketValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getProductId() != other.getProductId())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getQuantity() - other.getQuantity()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getRecordType() != other.getRecordType())
+			{
+				return true;
+			}
+
+			if ( getRefDate() != other.getRefDate())
+			{
+				return true;
+			}
+
+			if ( getRefGenNum() != other.getRefGenNum())
+			{
+				return true;
+			}
+
+			if ( getRefPieceNum() != other.getRefPieceNum())
+			{
+				return true;
+			}
+
+			if ( getRefSeqNum() != other.getRefSeqNum())
+			{
+				return true;
+			}
+
+			if (!isRepoClassNull() ? !getRepoClass().equals(other.getRepoClass()) : !other.isRepoClassNull())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getRepoRate() - other.getRepoRate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isSourceNull() ? !getSource().equals(other.getSource()) : !other.isSourceNull())
+			{
+				return true;
+			}
+
+			if ( isSpecialTradeTypeNull() != other.isSpecialTradeTypeNull() || getSpecialTradeType() != other.getSpecialTradeType())
+			{
+				return true;
+			}
+
+			if (!isStartDateNull() ? !getStartDate().equals(other.getStartDate()) : !other.isStartDateNull())
+			{
+				return true;
+			}
+
+			if (!isTradeCurrencyCodeNull() ? !getTradeCurrencyCode().equals(other.getTradeCurrencyCode()) : !other.isTradeCurrencyCodeNull())
+			{
+				return true;
+			}
+
+			if ( isTradeCurrencyRateNull() != other.isTradeCurrencyRateNull() || Math.abs(getTradeCurrencyRate() - other.getTradeCurrencyRate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isTradeDateNull() ? !getTradeDate().equals(other.getTradeDate()) : !other.isTradeDateNull())
+			{
+				return true;
+			}
+
+			if (!isTradingAcctCodeNull() ? !getTradingAcctCode().equals(other.getTradingAcctCode()) : !other.isTradingAcctCodeNull())
+			{
+				return true;
+			}
+
+			if (!isTransactionCodesNull() ? !getTransactionCodes().equals(other.getTransactionCodes()) : !other.isTransactionCodesNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			BcpRepoTradeDataOnHeap copy = new BcpRepoTradeDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			BcpRepoTradeDataOnHeap copy = new BcpRepoTradeDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "companyId: "+(""+getCompanyId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "repoId: "+"'"+getRepoId()+"'"+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			BcpRepoTradeData otherData = (BcpRepoTradeData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			BcpRepoTradeData otherData = (BcpRepoTradeData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTradeData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return BcpRepoTradeFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return BcpRepoTradeFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTradeData";
+		}
+	}
+
+	public class BcpRepoTradeDataOffHeap extends MithraOffHeapDataObject implements BcpRepoTradeData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public BcpRepoTradeDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 28);
+			this.zSetTimestamp(_storage, value, 48);
+			this.zSetTimestamp(_storage, value, 56);
+			this.zSetTimestamp(_storage, value, 96);
+			this.zSetTimestamp(_storage, value, 160);
+			this.zSetTimestamp(_storage, value, 168);
+			this.zSetTimestamp(_storage, value, 228);
+			this.zSetTimestamp(_storage, value, 248);
+		}
+
+		public BcpRepoTradeDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccount2IdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isAccount2NumNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isAccountIdNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isAccrualStartDateNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public boolean isAcctAggTypeNull()
+		{
+			return zIsStringNull(_storage, 36);
+		}
+
+		public boolean isAmountNull()
+		{
+			return false;
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 48);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 56);
+		}
+
+		public boolean isBuySellIndNull()
+		{
+			return zIsStringNull(_storage, 64);
+		}
+
+		public boolean isClearingAgentNull()
+		{
+			return zIsStringNull(_storage, 68);
+		}
+
+		public boolean isCommitmentTypeCodeNull()
+		{
+			return false;
+		}
+
+		public boolean isCompanyIdNull()
+		{
+			return false;
+		}
+
+		public boolean isCouponPaymentMethodNull()
+		{
+			return zIsNull(_storage, 4, 2);
+		}
+
+		public boolean isCustomerAcctNameNull()
+		{
+			return zIsStringNull(_storage, 80);
+		}
+
+		public boolean isCustomerAcctNumNull()
+		{
+			return zIsStringNull(_storage, 84);
+		}
+
+		public boolean isEndAmountNull()
+		{
+			return zIsNull(_storage, 4, 3);
+		}
+
+		public boolean isEndDateNull()
+		{
+			return zIsTimestampNull(_storage, 96);
+		}
+
+		public boolean isExclusionTypeCodeNull()
+		{
+			return zIsNull(_storage, 4, 4);
+		}
+
+		public boolean isForeignAmtNull()
+		{
+			return zIsNull(_storage, 4, 5);
+		}
+
+		public boolean isHasCollateralNull()
+		{
+			return false;
+		}
+
+		public boolean isHicAcctNumNull()
+		{
+			return zIsStringNull(_storage, 120);
+		}
+
+		public boolean isIsGsccNettedNull()
+		{
+			return zIsNull(_storage, 4, 6);
+		}
+
+		public boolean isIsHicNull()
+		{
+			return false;
+		}
+
+		public boolean isIsInterestOnlyNull()
+		{
+			return false;
+		}
+
+		public boolean isIsInternalTradeNull()
+		{
+			return false;
+		}
+
+		public boolean isIsMatchBookNull()
+		{
+			return false;
+		}
+
+		public boolean isIsPermanentNull()
+		{
+			return false;
+		}
+
+		public boolean isIsTriPartyNull()
+		{
+			return false;
+		}
+
+		public boolean isMarketValueNull()
+		{
+			return zIsNull(_storage, 4, 7);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 160);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 168);
+		}
+
+		public boolean isProductIdNull()
+		{
+			return false;
+		}
+
+		public boolean isQuantityNull()
+		{
+			return false;
+		}
+
+		public boolean isRecordTypeNull()
+		{
+			return false;
+		}
+
+		public boolean isRefDateNull()
+		{
+			return false;
+		}
+
+		public boolean isRefGenNumNull()
+		{
+			return false;
+		}
+
+		public boolean isRefPieceNumNull()
+		{
+			return false;
+		}
+
+		public boolean isRefSeqNumNull()
+		{
+			return false;
+		}
+
+		public boolean isRepoClassNull()
+		{
+			return zIsStringNull(_storage, 208);
+		}
+
+		public boolean isRepoIdNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isRepoRateNull()
+		{
+			return false;
+		}
+
+		public boolean isSourceNull()
+		{
+			return zIsStringNull(_storage, 220);
+		}
+
+		public boolean isSpecialTradeTypeNull()
+		{
+			return zIsNull(_storage, 4, 8);
+		}
+
+		public boolean isStartDateNull()
+		{
+			return zIsTimestampNull(_storage, 228);
+		}
+
+		public boolean isTradeCurrencyCodeNull()
+		{
+			return zIsStringNull(_storage, 236);
+		}
+
+		public boolean isTradeCurrencyRateNull()
+		{
+			return zIsNull(_storage, 4, 9);
+		}
+
+		public boolean isTradeDateNull()
+		{
+			return zIsTimestampNull(_storage, 248);
+		}
+
+		public boolean isTradingAcctCodeNull()
+		{
+			return zIsStringNull(_storage, 256);
+		}
+
+		public boolean isTransactionCodesNull()
+		{
+			return zIsStringNull(_storage, 260);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getAccount2Id());
+			out.writeObject(this.getAccount2Num());
+			out.writeInt(this.getAccountId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetAccrualStartDateAsLong());
+			out.writeObject(this.getAcctAggType());
+			out.writeDouble(this.getAmount());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), BcpRepoTradeFinder.businessDate().getInfinityDate());
+			out.writeObject(this.getBuySellInd());
+			out.writeObject(this.getClearingAgent());
+			out.writeInt(this.getCommitmentTypeCode());
+			out.writeInt(this.getCompanyId());
+			out.writeInt(this.getCouponPaymentMethod());
+			out.writeObject(this.getCustomerAcctName());
+			out.writeObject(this.getCustomerAcctNum());
+			out.writeDouble(this.getEndAmount());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetEndDateAsLong());
+			out.writeInt(this.getExclusionTypeCode());
+			out.writeDouble(this.getForeignAmt());
+			out.writeInt(this.getHasCollateral());
+			out.writeObject(this.getHicAcctNum());
+			out.writeInt(this.getIsGsccNetted());
+			out.writeInt(this.getIsHic());
+			out.writeInt(this.getIsInterestOnly());
+			out.writeInt(this.getIsInternalTrade());
+			out.writeInt(this.getIsMatchBook());
+			out.writeInt(this.getIsPermanent());
+			out.writeInt(this.getIsTriParty());
+			out.writeDouble(this.getMarketValue());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), BcpRepoTradeFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getProductId());
+			out.writeDouble(this.getQuantity());
+			out.writeInt(this.getRecordType());
+			out.writeInt(this.getRefDate());
+			out.writeInt(this.getRefGenNum());
+			out.writeInt(this.getRefPieceNum());
+			out.writeInt(this.getRefSeqNum());
+			out.writeObject(this.getRepoClass());
+			out.writeObject(this.getRepoId());
+			out.writeDouble(this.getRepoRate());
+			out.writeObject(this.getSource());
+			out.writeInt(this.getSpecialTradeType());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetStartDateAsLong());
+			out.writeObject(this.getTradeCurrencyCode());
+			out.writeDouble(this.getTradeCurrencyRate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetTradeDateAsLong());
+			out.writeObject(this.getTradingAcctCode());
+			out.writeObject(this.getTransactionCodes());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			short isNullBits0 = 0;
+			if (isAccountIdNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1);
+			}
+
+			if (isAccount2IdNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 1);
+			}
+
+			if (isMarketValueNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 2);
+			}
+
+			if (isTradeCurrencyRateNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 3);
+			}
+
+			if (isForeignAmtNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 4);
+			}
+
+			if (isEndAmountNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 5);
+			}
+
+			if (isSpecialTradeTypeNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 6);
+			}
+
+			if (isCouponPaymentMethodNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 7);
+			}
+
+			if (isIsGsccNettedNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 8);
+			}
+
+			if (isExclusionTypeCodeNull())
+			{
+				isNullBits0 = (short)((int)isNullBits0 | 1 << 9);
+			}
+
+			out.writeShort(isNullBits0);
+		}
+
+		public int getAccount2Id()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setAccount2Id(int value)
+		{
+			zSetInteger(_storage, value, 16, 4, 0);
+		}
+
+		public String getAccount2Num()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetAccount2NumAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setAccount2Num(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setAccount2NumNull()
+		{
+			this.setAccount2Num(null);
+		}
+
+		public int getAccountId()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setAccountId(int value)
+		{
+			zSetInteger(_storage, value, 24, 4, 1);
+		}
+
+		public Timestamp getAccrualStartDate()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetAccrualStartDateAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setAccrualStartDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setAccrualStartDateNull()
+		{
+			this.setAccrualStartDate(null);
+		}
+
+		public String getAcctAggType()
+		{
+			return zGetString(_storage, 36);
+		}
+
+		public int zGetAcctAggTypeAsInt()
+		{
+			return zGetInteger(_storage, 36);
+		}
+
+		public void setAcctAggType(String value)
+		{
+			zSetString(_storage, value, 36);
+		}
+
+		public void setAcctAggTypeNull()
+		{
+			this.setAcctAggType(null);
+		}
+
+		public double getAmount()
+		{
+			return zGetDouble(_storage, 40);
+		}
+
+		public void setAmount(double value)
+		{
+			zSetDouble(_storage, value, 40, -1, -1);
+		}
+
+		public void setAmountNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 48);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 48);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 48);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 56);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 56);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 56);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getBuySellInd()
+		{
+			return zGetString(_storage, 64);
+		}
+
+		public int zGetBuySellIndAsInt()
+		{
+			return zGetInteger(_storage, 64);
+		}
+
+		public void setBuySellInd(String value)
+		{
+			zSetString(_storage, value, 64);
+		}
+
+		public void setBuySellIndNull()
+		{
+			this.setBuySellInd(null);
+		}
+
+		public String getClearingAgent()
+		{
+			return zGetString(_storage, 68);
+		}
+
+		public int zGetClearingAgentAsInt()
+		{
+			return zGetInteger(_storage, 68);
+		}
+
+		public void setClearingAgent(String value)
+		{
+			zSetString(_storage, value, 68);
+		}
+
+		public void setClearingAgentNull()
+		{
+			this.setClearingAgent(null);
+		}
+
+		public int getCommitmentTypeCode()
+		{
+			return zGetInteger(_storage, 72);
+		}
+
+		public void setCommitmentTypeCode(int value)
+		{
+			zSetInteger(_storage, value, 72, -1, -1);
+		}
+
+		public void setCommitmentTypeCodeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getCompanyId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setCompanyId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setCompanyIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getCouponPaymentMethod()
+		{
+			return zGetInteger(_storage, 76);
+		}
+
+		public void setCouponPaymentMethod(int value)
+		{
+			zSetInteger(_storage, value, 76, 4, 2);
+		}
+
+		public String getCustomerAcctName()
+		{
+			return zGetString(_storage, 80);
+		}
+
+		public int zGetCustomerAcctNameAsInt()
+		{
+			return zGetInteger(_storage, 80);
+		}
+
+		public void setCustomerAcctName(String value)
+		{
+			zSetString(_storage, value, 80);
+		}
+
+		public void setCustomerAcctNameNull()
+		{
+			this.setCustomerAcctName(null);
+		}
+
+		public String getCustomerAcctNum()
+		{
+			return zGetString(_storage, 84);
+		}
+
+		public int zGetCustomerAcctNumAsInt()
+		{
+			return zGetInteger(_storage, 84);
+		}
+
+		public void setCustomerAcctNum(String value)
+		{
+			zSetString(_storage, value, 84);
+		}
+
+		public void setCustomerAcctNumNull()
+		{
+			this.setCustomerAcctNum(null);
+		}
+
+		public double getEndAmount()
+		{
+			return zGetDouble(_storage, 88);
+		}
+
+		public void setEndAmount(double value)
+		{
+			zSetDouble(_storage, value, 88, 4, 3);
+		}
+
+		public Timestamp getEndDate()
+		{
+			return zGetTimestamp(_storage, 96);
+		}
+
+		public long zGetEndDateAsLong()
+		{
+			return zGetLong(_storage, 96);
+		}
+
+		public void setEndDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 96);
+		}
+
+		public void setEndDateNull()
+		{
+			this.setEndDate(null);
+		}
+
+		public int getExclusionTypeCode()
+		{
+			return zGetInteger(_storage, 104);
+		}
+
+		public void setExclusionTypeCode(int value)
+		{
+			zSetInteger(_storage, value, 104, 4, 4);
+		}
+
+		public double getForeignAmt()
+		{
+			return zGetDouble(_storage, 108);
+		}
+
+		public void setForeignAmt(double value)
+		{
+			zSetDouble(_storage, value, 108, 4, 5);
+		}
+
+		public int getHasCollateral()
+		{
+			return zGetInteger(_storage, 116);
+		}
+
+		public void setHasCollateral(int value)
+		{
+			zSetInteger(_storage, value, 116, -1, -1);
+		}
+
+		public void setHasCollateralNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getHicAcctNum()
+		{
+			return zGetString(_storage, 120);
+		}
+
+		public int zGetHicAcctNumAsInt()
+		{
+			return zGetInteger(_storage, 120);
+		}
+
+		public void setHicAcctNum(String value)
+		{
+			zSetString(_storage, value, 120);
+		}
+
+		public void setHicAcctNumNull()
+		{
+			this.setHicAcctNum(null);
+		}
+
+		public int getIsGsccNetted()
+		{
+			return zGetInteger(_storage, 124);
+		}
+
+		public void setIsGsccNetted(int value)
+		{
+			zSetInteger(_storage, value, 124, 4, 6);
+		}
+
+		public int getIsHic()
+		{
+			return zGetInteger(_storage, 128);
+		}
+
+		public void setIsHic(int value)
+		{
+			zSetInteger(_storage, value, 128, -1, -1);
+		}
+
+		public void setIsHicNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsInterestOnly()
+		{
+			return zGetInteger(_storage, 132);
+		}
+
+		public void setIsInterestOnly(int value)
+		{
+			zSetInteger(_storage, value, 132, -1, -1);
+		}
+
+		public void setIsInterestOnlyNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsInternalTrade()
+		{
+			return zGetInteger(_storage, 136);
+		}
+
+		public void setIsInternalTrade(int value)
+		{
+			zSetInteger(_storage, value, 136, -1, -1);
+		}
+
+		public void setIsInternalTradeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsMatchBook()
+		{
+			return zGetInteger(_storage, 140);
+		}
+
+		public void setIsMatchBook(int value)
+		{
+			zSetInteger(_storage, value, 140, -1, -1);
+		}
+
+		public void setIsMatchBookNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsPermanent()
+		{
+			return zGetInteger(_storage, 144);
+		}
+
+		public void setIsPermanent(int value)
+		{
+			zSetInteger(_storage, value, 144, -1, -1);
+		}
+
+		public void setIsPermanentNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getIsTriParty()
+		{
+			return zGetInteger(_storage, 148);
+		}
+
+		public void setIsTriParty(int value)
+		{
+			zSetInteger(_storage, value, 148, -1, -1);
+		}
+
+		public void setIsTriPartyNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getMarketValue()
+		{
+			return zGetDouble(_storage, 152);
+		}
+
+		public void setMarketValue(double value)
+		{
+			zSetDouble(_storage, value, 152, 4, 7);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 160);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 160);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 160);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 168);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 168);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 168);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProductId()
+		{
+			return zGetInteger(_storage, 176);
+		}
+
+		public void setProductId(int value)
+		{
+			zSetInteger(_storage, value, 176, -1, -1);
+		}
+
+		public void setProductIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getQuantity()
+		{
+			return zGetDouble(_storage, 180);
+		}
+
+		public void setQuantity(double value)
+		{
+			zSetDouble(_storage, value, 180, -1, -1);
+		}
+
+		public void setQuantityNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRecordType()
+		{
+			return zGetInteger(_storage, 188);
+		}
+
+		public void setRecordType(int value)
+		{
+			zSetInteger(_storage, value, 188, -1, -1);
+		}
+
+		public void setRecordTypeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRefDate()
+		{
+			return zGetInteger(_storage, 192);
+		}
+
+		public void setRefDate(int value)
+		{
+			zSetInteger(_storage, value, 192, -1, -1);
+		}
+
+		public void setRefDateNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRefGenNum()
+		{
+			return zGetInteger(_storage, 196);
+		}
+
+		public void setRefGenNum(int value)
+		{
+			zSetInteger(_storage, value, 196, -1, -1);
+		}
+
+		public void setRefGenNumNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRefPieceNum()
+		{
+			return zGetInteger(_storage, 200);
+		}
+
+		public void setRefPieceNum(int value)
+		{
+			zSetInteger(_storage, value, 200, -1, -1);
+		}
+
+		public void setRefPieceNumNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getRefSeqNum()
+		{
+			return zGetInteger(_storage, 204);
+		}
+
+		public void setRefSeqNum(int value)
+		{
+			zSetInteger(_storage, value, 204, -1, -1);
+		}
+
+		public void setRefSeqNumNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getRepoClass()
+		{
+			return zGetString(_storage, 208);
+		}
+
+		public int zGetRepoClassAsInt()
+		{
+			return zGetInteger(_storage, 208);
+		}
+
+		public void setRepoClass(String value)
+		{
+			zSetString(_storage, value, 208);
+		}
+
+		public void setRepoClassNull()
+		{
+			this.setRepoClass(null);
+		}
+
+		public String getRepoId()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetRepoIdAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setRepoId(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setRepoIdNull()
+		{
+			this.setRepoId(null);
+		}
+
+		public double getRepoRate()
+		{
+			return zGetDouble(_storage, 212);
+		}
+
+		public void setRepoRate(double value)
+		{
+			zSetDouble(_storage, value, 212, -1, -1);
+		}
+
+		public void setRepoRateNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getSource()
+		{
+			return zGetString(_storage, 220);
+		}
+
+		public int zGetSourceAsInt()
+		{
+			return zGetInteger(_storage, 220);
+		}
+
+		public void setSource(String value)
+		{
+			zSetString(_storage, value, 220);
+		}
+
+		public void setSourceNull()
+		{
+			this.setSource(null);
+		}
+
+		public int getSpecialTradeType()
+		{
+			return zGetInteger(_storage, 224);
+		}
+
+		public void setSpecialTradeType(int value)
+		{
+			zSetInteger(_storage, value, 224, 4, 8);
+		}
+
+		public Timestamp getStartDate()
+		{
+			return zGetTimestamp(_storage, 228);
+		}
+
+		public long zGetStartDateAsLong()
+		{
+			return zGetLong(_storage, 228);
+		}
+
+		public void setStartDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 228);
+		}
+
+		public void setStartDateNull()
+		{
+			this.setStartDate(null);
+		}
+
+		public String getTradeCurrencyCode()
+		{
+			return zGetString(_storage, 236);
+		}
+
+		public int zGetTradeCurrencyCodeAsInt()
+		{
+			return zGetInteger(_storage, 236);
+		}
+
+		public void setTradeCurrencyCode(String value)
+		{
+			zSetString(_storage, value, 236);
+		}
+
+		public void setTradeCurrencyCodeNull()
+		{
+			this.setTradeCurrencyCode(null);
+		}
+
+		public double getTradeCurrencyRate()
+		{
+			return zGetDouble(_storage, 240);
+		}
+
+		public void setTradeCurrencyRate(double value)
+		{
+			zSetDouble(_storage, value, 240, 4, 9);
+		}
+
+		public Timestamp getTradeDate()
+		{
+			return zGetTimestamp(_storage, 248);
+		}
+
+		public long zGetTradeDateAsLong()
+		{
+			return zGetLong(_storage, 248);
+		}
+
+		public void setTradeDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 248);
+		}
+
+		public void setTradeDateNull()
+		{
+			this.setTradeDate(null);
+		}
+
+		public String getTradingAcctCode()
+		{
+			return zGetString(_storage, 256);
+		}
+
+		public int zGetTradingAcctCodeAsInt()
+		{
+			return zGetInteger(_storage, 256);
+		}
+
+		public void setTradingAcctCode(String value)
+		{
+			zSetString(_storage, value, 256);
+		}
+
+		public void setTradingAcctCodeNull()
+		{
+			this.setTradingAcctCode(null);
+		}
+
+		public String getTransactionCodes()
+		{
+			return zGetString(_storage, 260);
+		}
+
+		public int zGetTransactionCodesAsInt()
+		{
+			return zGetInteger(_storage, 260);
+		}
+
+		public void setTransactionCodes(String value)
+		{
+			zSetString(_storage, value, 260);
+		}
+
+		public void setTransactionCodesNull()
+		{
+			this.setTransactionCodes(null);
+		}
+
+		public void setAccountIdNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public void setAccount2IdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public void setMarketValueNull()
+		{
+			zSetNull(_storage, 4, 7);
+		}
+
+		public void setTradeCurrencyRateNull()
+		{
+			zSetNull(_storage, 4, 9);
+		}
+
+		public void setForeignAmtNull()
+		{
+			zSetNull(_storage, 4, 5);
+		}
+
+		public void setEndAmountNull()
+		{
+			zSetNull(_storage, 4, 3);
+		}
+
+		public void setSpecialTradeTypeNull()
+		{
+			zSetNull(_storage, 4, 8);
+		}
+
+		public void setCouponPaymentMethodNull()
+		{
+			zSetNull(_storage, 4, 2);
+		}
+
+		public void setIsGsccNettedNull()
+		{
+			zSetNull(_storage, 4, 6);
+		}
+
+		public void setExclusionTypeCodeNull()
+		{
+			zSetNull(_storage, 4, 4);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(BcpRepoTradeDataOnHeap copy, boolean withRelationships)
+		{
+			copy.account2Id = this.getAccount2Id();
+			copy.account2Num = this.getAccount2Num();
+			copy.accountId = this.getAccountId();
+			copy.accrualStartDate = this.getAccrualStartDate();
+			copy.acctAggType = this.getAcctAggType();
+			copy.amount = this.getAmount();
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.buySellInd = this.getBuySellInd();
+			copy.clearingAgent = this.getClearingAgent();
+			copy.commitmentTypeCode = this.getCommitmentTypeCode();
+			copy.companyId = this.getCompanyId();
+			copy.couponPaymentMethod = this.getCouponPaymentMethod();
+			copy.customerAcctName = this.getCustomerAcctName();
+			copy.customerAcctNum = this.getCustomerAcctNum();
+			copy.endAmount = this.getEndAmount();
+			copy.endDate = this.getEndDate();
+			copy.exclusionTypeCode = this.getExclusionTypeCode();
+			copy.foreignAmt = this.getForeignAmt();
+			copy.hasCollateral = this.getHasCollateral();
+			copy.hicAcctNum = this.getHicAcctNum();
+			copy.isGsccNetted = this.getIsGsccNetted();
+			copy.isHic = this.getIsHic();
+			copy.isInterestOnly = this.getIsInterestOnly();
+			copy.isInternalTrade = this.getIsInternalTrade();
+			copy.isMatchBook = this.getIsMatchBook();
+			copy.isPermanent = this.getIsPermanent();
+			copy.isTriParty = this.getIsTriParty();
+			copy.marketValue = this.getMarketValue();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.productId = this.getProductId();
+			copy.quantity = this.getQuantity();
+			copy.recordType = this.getRecordType();
+			copy.refDate = this.getRefDate();
+			copy.refGenNum = this.getRefGenNum();
+			copy.refPieceNum = this.getRefPieceNum();
+			copy.refSeqNum = this.getRefSeqNum();
+			copy.repoClass = this.getRepoClass();
+			copy.repoId = this.getRepoId();
+			copy.repoRate = this.getRepoRate();
+			copy.source = this.getSource();
+			copy.specialTradeType = this.getSpecialTradeType();
+			copy.startDate = this.getStartDate();
+			copy.tradeCurrencyCode = this.getTradeCurrencyCode();
+			copy.tradeCurrencyRate = this.getTradeCurrencyRate();
+			copy.tradeDate = this.getTradeDate();
+			copy.tradingAcctCode = this.getTradingAcctCode();
+			copy.transactionCodes = this.getTransactionCodes();
+			if (isAccountIdNull())
+			{
+				copy.setAccountIdNull();
+			}
+
+			if (isAccount2IdNull())
+			{
+				copy.setAccount2IdNull();
+			}
+
+			if (isMarketValueNull())
+			{
+				copy.setMarketValueNull();
+			}
+
+			if (isTradeCurrencyRateNull())
+			{
+				copy.setTradeCurrencyRateNull();
+			}
+
+			if (isForeignAmtNull())
+			{
+				copy.setForeignAmtNull();
+			}
+
+			if (isEndAmountNull())
+			{
+				copy.setEndAmountNull();
+			}
+
+			if (isSpecialTradeTypeNull())
+			{
+				copy.setSpecialTradeTypeNull();
+			}
+
+			if (isCouponPaymentMethodNull())
+			{
+				copy.setCouponPaymentMethodNull();
+			}
+
+			if (isIsGsccNettedNull())
+			{
+				copy.setIsGsccNettedNull();
+			}
+
+			if (isExclusionTypeCodeNull())
+			{
+				copy.setExclusionTypeCodeNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			short isNullBits0 = in.readShort();
+			zSetInteger(_storage, in.readInt(), 16, 4, 0, (isNullBits0 & 1 << 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 24, 4, 1, (isNullBits0 & 1) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetString(_storage, (String)in.readObject(), 36);
+			zSetDouble(_storage, in.readDouble(), 40, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 56);
+			zSetString(_storage, (String)in.readObject(), 64);
+			zSetString(_storage, (String)in.readObject(), 68);
+			zSetInteger(_storage, in.readInt(), 72, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 76, 4, 2, (isNullBits0 & 1 << 7) != 0 );
+			zSetString(_storage, (String)in.readObject(), 80);
+			zSetString(_storage, (String)in.readObject(), 84);
+			zSetDouble(_storage, in.readDouble(), 88, 4, 3, (isNullBits0 & 1 << 5) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 96);
+			zSetInteger(_storage, in.readInt(), 104, 4, 4, (isNullBits0 & 1 << 9) != 0 );
+			zSetDouble(_storage, in.readDouble(), 108, 4, 5, (isNullBits0 & 1 << 4) != 0 );
+			zSetInteger(_storage, in.readInt(), 116, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 120);
+			zSetInteger(_storage, in.readInt(), 124, 4, 6, (isNullBits0 & 1 << 8) != 0 );
+			zSetInteger(_storage, in.readInt(), 128, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 132, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 136, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 140, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 144, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 148, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 152, 4, 7, (isNullBits0 & 1 << 2) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 160);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 168);
+			zSetInteger(_storage, in.readInt(), 176, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 180, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 188, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 192, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 196, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 200, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 204, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 208);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetDouble(_storage, in.readDouble(), 212, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 220);
+			zSetInteger(_storage, in.readInt(), 224, 4, 8, (isNullBits0 & 1 << 6) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 228);
+			zSetString(_storage, (String)in.readObject(), 236);
+			zSetDouble(_storage, in.readDouble(), 240, 4, 9, (isNullBits0 & 1 << 3) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 248);
+			zSetString(_storage, (String)in.readObject(), 256);
+			zSetString(_storage, (String)in.readObject(), 260);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof BcpRepoTradeDataOffHeap)
+			{
+				final BcpRepoTradeDataOffHeap otherData = (BcpRepoTradeDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final BcpRepoTradeData otherData = (BcpRepoTradeData) other;
+			if (getCompanyId() != otherData.getCompanyId())
+			{
+				return false;
+			}
+
+			if (!isRepoIdNull() ? !getRepoId().equals(otherData.getRepoId()) : !otherData.isRepoIdNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), BcpRepoTradeFinder.businessDate().getInfinityDate());
+			out.writeInt(this.getCompanyId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), BcpRepoTradeFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getRepoId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 48);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 56);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 160);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 168);
+			zSetString(_storage, (String)in.readObject(), 12);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final BcpRepoTradeData bcpRepoTradeData = (BcpRepoTradeData) newData;
+			this.setAccount2Id(bcpRepoTradeData.getAccount2Id());
+			if (bcpRepoTradeData.isAccount2IdNull()) this.setAccount2IdNull();
+			this.setAccount2Num(bcpRepoTradeData.getAccount2Num());
+			this.setAccountId(bcpRepoTradeData.getAccountId());
+			if (bcpRepoTradeData.isAccountIdNull()) this.setAccountIdNull();
+			this.setAccrualStartDate(bcpRepoTradeData.getAccrualStartDate());
+			this.setAcctAggType(bcpRepoTradeData.getAcctAggType());
+			this.setAmount(bcpRepoTradeData.getAmount());
+			this.setBusinessDateFrom(bcpRepoTradeData.getBusinessDateFrom());
+			this.setBusinessDateTo(bcpRepoTradeData.getBusinessDateTo());
+			this.setBuySellInd(bcpRepoTradeData.getBuySellInd());
+			this.setClearingAgent(bcpRepoTradeData.getClearingAgent());
+			this.setCommitmentTypeCode(bcpRepoTradeData.getCommitmentTypeCode());
+			this.setCouponPaymentMethod(bcpRepoTradeData.getCouponPaymentMethod());
+			if (bcpRepoTradeData.isCouponPaymentMethodNull()) this.setCouponPaymentMethodNull();
+			this.setCustomerAcctName(bcpRepoTradeData.getCustomerAcctName());
+			this.setCustomerAcctNum(bcpRepoTradeData.getCustomerAcctNum());
+			this.setEndAmount(bcpRepoTradeData.getEndAmount());
+			if (bcpRepoTradeData.isEndAmountNull()) this.setEndAmountNull();
+			this.setEndDate(bcpRepoTradeData.getEndDate());
+			this.setExclusionTypeCode(bcpRepoTradeData.getExclusionTypeCode());
+			if (bcpRepoTradeData.isExclusionTypeCodeNull()) this.setExclusionTypeCodeNull();
+			this.setForeignAmt(bcpRepoTradeData.getForeignAmt());
+			if (bcpRepoTradeData.isForeignAmtNull()) this.setForeignAmtNull();
+			this.setHasCollateral(bcpRepoTradeData.getHasCollateral());
+			this.setHicAcctNum(bcpRepoTradeData.getHicAcctNum());
+			this.setIsGsccNetted(bcpRepoTradeData.getIsGsccNetted());
+			if (bcpRepoTradeData.isIsGsccNettedNull()) this.setIsGsccNettedNull();
+			this.setIsHic(bcpRepoTradeData.getIsHic());
+			this.setIsInterestOnly(bcpRepoTradeData.getIsInterestOnly());
+			this.setIsInternalTrade(bcpRepoTradeData.getIsInternalTrade());
+			this.setIsMatchBook(bcpRepoTradeData.getIsMatchBook());
+			this.setIsPermanent(bcpRepoTradeData.getIsPermanent());
+			this.setIsTriParty(bcpRepoTradeData.getIsTriParty());
+			this.setMarketValue(bcpRepoTradeData.getMarketValue());
+			if (bcpRepoTradeData.isMarketValueNull()) this.setMarketValueNull();
+			this.setProcessingDateFrom(bcpRepoTradeData.getProcessingDateFrom());
+			this.setProcessingDateTo(bcpRepoTradeData.getProcessingDateTo());
+			this.setProductId(bcpRepoTradeData.getProductId());
+			this.setQuantity(bcpRepoTradeData.getQuantity());
+			this.setRecordType(bcpRepoTradeData.getRecordType());
+			this.setRefDate(bcpRepoTradeData.getRefDate());
+			this.setRefGenNum(bcpRepoTradeData.getRefGenNum());
+			this.setRefPieceNum(bcpRepoTradeData.getRefPieceNum());
+			this.setRefSeqNum(bcpRepoTradeData.getRefSeqNum());
+			this.setRepoClass(bcpRepoTradeData.getRepoClass());
+			this.setRepoRate(bcpRepoTradeData.getRepoRate());
+			this.setSource(bcpRepoTradeData.getSource());
+			this.setSpecialTradeType(bcpRepoTradeData.getSpecialTradeType());
+			if (bcpRepoTradeData.isSpecialTradeTypeNull()) this.setSpecialTradeTypeNull();
+			this.setStartDate(bcpRepoTradeData.getStartDate());
+			this.setTradeCurrencyCode(bcpRepoTradeData.getTradeCurrencyCode());
+			this.setTradeCurrencyRate(bcpRepoTradeData.getTradeCurrencyRate());
+			if (bcpRepoTradeData.isTradeCurrencyRateNull()) this.setTradeCurrencyRateNull();
+			this.setTradeDate(bcpRepoTradeData.getTradeDate());
+			this.setTradingAcctCode(bcpRepoTradeData.getTradingAcctCode());
+			this.setTransactionCodes(bcpRepoTradeData.getTransactionCodes());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final BcpRepoTradeData other = (BcpRepoTradeData) newData;
+			if ( isAccount2IdNull() != other.isAccount2IdNull() || getAccount2Id() != other.getAccount2Id())
+			{
+				return true;
+			}
+
+			if (!isAccount2NumNull() ? !getAccount2Num().equals(other.getAccount2Num()) : !other.isAccount2NumNull())
+			{
+				return true;
+			}
+
+			if ( isAccountIdNull() != other.isAccountIdNull() || getAccountId() != other.getAccountId())
+			{
+				return true;
+			}
+
+			if (!isAccrualStartDateNull() ? !getAccrualStartDate().equals(other.getAccrualStartDate()) : !other.isAccrualStartDateNull())
+			{
+				return true;
+			}
+
+			if (!isAcctAggTypeNull() ? !getAcctAggType().equals(other.getAcctAggType()) : !other.isAcctAggTypeNull())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getAmount() - other.getAmount()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isBuySellIndNull() ? !getBuySellInd().equals(other.getBuySellInd()) : !other.isBuySellIndNull())
+			{
+				return true;
+			}
+
+			if (!isClearingAgentNull() ? !getClearingAgent().equals(other.getClearingAgent()) : !other.isClearingAgentNull())
+			{
+				return true;
+			}
+
+			if ( getCommitmentTypeCode() != other.getCommitmentTypeCode())
+			{
+				return true;
+			}
+
+			if ( isCouponPaymentMethodNull() != other.isCouponPaymentMethodNull() || getCouponPaymentMethod() != other.getCouponPaymentMethod())
+			{
+				return true;
+			}
+
+			if (!isCustomerAcctNameNull() ? !getCustomerAcctName().equals(other.getCustomerAcctName()) : !other.isCustomerAcctNameNull())
+			{
+				return true;
+			}
+
+			if (!isCustomerAcctNumNull() ? !getCustomerAcctNum().equals(other.getCustomerAcctNum()) : !other.isCustomerAcctNumNull())
+			{
+				return true;
+			}
+
+			if ( isEndAmountNull() != other.isEndAmountNull() || Math.abs(getEndAmount() - other.getEndAmount()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isEndDateNull() ? !getEndDate().equals(other.getEndDate()) : !other.isEndDateNull())
+			{
+				return true;
+			}
+
+			if ( isExclusionTypeCodeNull() != other.isExclusionTypeCodeNull() || getExclusionTypeCode() != other.getExclusionTypeCode())
+			{
+				return true;
+			}
+
+			if ( isForeignAmtNull() != other.isForeignAmtNull() || Math.abs(getForeignAmt() - other.getForeignAmt()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getHasCollateral() != other.getHasCollateral())
+			{
+				return true;
+			}
+
+			if (!isHicAcctNumNull() ? !getHicAcctNum().equals(other.getHicAcctNum()) : !other.isHicAcctNumNull())
+			{
+				return true;
+			}
+
+			if ( isIsGsccNettedNull() != other.isIsGsccNettedNull() || getIsGsccNetted() != other.getIsGsccNetted())
+			{
+				return true;
+			}
+
+			if ( getIsHic() != other.getIsHic())
+			{
+				return true;
+			}
+
+			if ( getIsInterestOnly() != other.getIsInterestOnly())
+			{
+				return true;
+			}
+
+			if ( getIsInternalTrade() != other.getIsInternalTrade())
+			{
+				return true;
+			}
+
+			if ( getIsMatchBook() != other.getIsMatchBook())
+			{
+				return true;
+			}
+
+			if ( getIsPermanent() != other.getIsPermanent())
+			{
+				return true;
+			}
+
+			if ( getIsTriParty() != other.getIsTriParty())
+			{
+				return true;
+			}
+
+			if ( isMarketValueNull() != other.isMarketValueNull() || Math.abs(getMarketValue() - other.getMarketValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getProductId() != other.getProductId())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getQuantity() - other.getQuantity()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getRecordType() != other.getRecordType())
+			{
+				return true;
+			}
+
+			if ( getRefDate() != other.getRefDate())
+			{
+				return true;
+			}
+
+			if ( getRefGenNum() != other.getRefGenNum())
+			{
+				return true;
+			}
+
+			if ( getRefPieceNum() != other.getRefPieceNum())
+			{
+				return true;
+			}
+
+			if ( getRefSeqNum() != other.getRefSeqNum())
+			{
+				return true;
+			}
+
+			if (!isRepoClassNull() ? !getRepoClass().equals(other.getRepoClass()) : !other.isRepoClassNull())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getRepoRate() - other.getRepoRate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isSourceNull() ? !getSource().equals(other.getSource()) : !other.isSourceNull())
+			{
+				return true;
+			}
+
+			if ( isSpecialTradeTypeNull() != other.isSpecialTradeTypeNull() || getSpecialTradeType() != other.getSpecialTradeType())
+			{
+				return true;
+			}
+
+			if (!isStartDateNull() ? !getStartDate().equals(other.getStartDate()) : !other.isStartDateNull())
+			{
+				return true;
+			}
+
+			if (!isTradeCurrencyCodeNull() ? !getTradeCurrencyCode().equals(other.getTradeCurrencyCode()) : !other.isTradeCurrencyCodeNull())
+			{
+				return true;
+			}
+
+			if ( isTradeCurrencyRateNull() != other.isTradeCurrencyRateNull() || Math.abs(getTradeCurrencyRate() - other.getTradeCurrencyRate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isTradeDateNull() ? !getTradeDate().equals(other.getTradeDate()) : !other.isTradeDateNull())
+			{
+				return true;
+			}
+
+			if (!isTradingAcctCodeNull() ? !getTradingAcctCode().equals(other.getTradingAcctCode()) : !other.isTradingAcctCodeNull())
+			{
+				return true;
+			}
+
+			if (!isTransactionCodesNull() ? !getTransactionCodes().equals(other.getTransactionCodes()) : !other.isTransactionCodesNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			BcpRepoTradeDataOnHeap copy = new BcpRepoTradeDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			BcpRepoTradeDataOnHeap copy = new BcpRepoTradeDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "companyId: "+(""+getCompanyId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "repoId: "+"'"+getRepoId()+"'"+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			BcpRepoTradeData otherData = (BcpRepoTradeData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			BcpRepoTradeData otherData = (BcpRepoTradeData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTradeData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return BcpRepoTradeFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return BcpRepoTradeFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTradeData";
+		}
+	}
+}
@@ -0,0 +1,971 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class BcpRepoTradeDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ref_date,ref_seq_num,ref_piece_num,ref_gen_num,account_id,trading_acct_code,account2_id,account2_num,customer_acct_num,customer_acct_name,product_id,buy_sell_ind,commitment_type,start_date,trade_date,end_date,accrual_start_date,repo_rate,quantity,amount,market_value,trade_currency,trade_currency_rate,foreign_amt,end_amount,clearing_agent,transaction_codes,special_trade_type,\"source\",coupon_payment_method,acct_agg_type,record_type,repo_class,is_hic,hic_acct_num,is_permanent,is_tri_party,is_internal_trade,is_match_book,is_interest_only,is_gscc_netted,has_collateral,exclusion_type_code,from_z,thru_z,in_z,out_z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ref_date,t0.ref_seq_num,t0.ref_piece_num,t0.ref_gen_num,t0.account_id,t0.trading_acct_code,t0.account2_id,t0.account2_num,t0.customer_acct_num,t0.customer_acct_name,t0.product_id,t0.buy_sell_ind,t0.commitment_type,t0.start_date,t0.trade_date,t0.end_date,t0.accrual_start_date,t0.repo_rate,t0.quantity,t0.amount,t0.market_value,t0.trade_currency,t0.trade_currency_rate,t0.foreign_amt,t0.end_amount,t0.clearing_agent,t0.transaction_codes,t0.special_trade_type,t0.\"source\",t0.coupon_payment_method,t0.acct_agg_type,t0.record_type,t0.repo_class,t0.is_hic,t0.hic_acct_num,t0.is_permanent,t0.is_tri_party,t0.is_internal_trade,t0.is_match_book,t0.is_interest_only,t0.is_gscc_netted,t0.has_collateral,t0.exclusion_type_code,t0.from_z,t0.thru_z,t0.in_z,t0.out_z";
+	private static final String PK_WITH_ALIAS = "t0.repo_id = ? AND t0.company_id = ?";
+	private static final String PK_INDEX_COLS = "repo_id,company_id";
+	protected BcpRepoTradeDatabaseObjectAbstract()
+	{
+		super("BcpRepoTrade", "com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTradeFinder",
+			49, 49,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BcpRepoTradeFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return BcpRepoTradeFinder.getFinderInstance();
+	}
+
+	public static BcpRepoTradeData allocateOnHeapData()
+	{
+		return new BcpRepoTradeData.BcpRepoTradeDataOnHeap();
+	}
+
+	public static BcpRepoTradeData allocateOffHeapData()
+	{
+		return new BcpRepoTradeData.BcpRepoTradeDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new BcpRepoTradeData.BcpRepoTradeDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity()), BcpRepoTradeFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity()), BcpRepoTradeFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		BcpRepoTradeData data = new BcpRepoTradeData.BcpRepoTradeDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity()), BcpRepoTradeFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity()), BcpRepoTradeFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(BcpRepoTradeData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTrade", BcpRepoTradeFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("BcpRepoTrade"));
+			BcpRepoTradeData.BcpRepoTradeDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(BcpRepoTradeFinder.getPrimaryKeyAttributes(), BcpRepoTradeFinder.getAsOfAttributes(), this, BcpRepoTradeFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(BcpRepoTradeFinder.getPrimaryKeyAttributes(), BcpRepoTradeFinder.getAsOfAttributes(), this, BcpRepoTradeFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(BcpRepoTradeFinder.getPrimaryKeyAttributes(), BcpRepoTradeFinder.getAsOfAttributes(), this, BcpRepoTradeFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(BcpRepoTradeFinder.getPrimaryKeyAttributes(), BcpRepoTradeFinder.getAsOfAttributes(), this, BcpRepoTradeFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(BcpRepoTradeFinder.getPrimaryKeyAttributes(), BcpRepoTradeFinder.getAsOfAttributes(), this, BcpRepoTradeFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(BcpRepoTradeData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTrade", BcpRepoTradeFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			BcpRepoTradeData.BcpRepoTradeDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(BcpRepoTradeFinder.getPrimaryKeyAttributes(), BcpRepoTradeFinder.getAsOfAttributes(), this, BcpRepoTradeFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(BcpRepoTradeFinder.getPrimaryKeyAttributes(), BcpRepoTradeFinder.getAsOfAttributes(), this, BcpRepoTradeFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			BcpRepoTradeFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			BcpRepoTradeFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			BcpRepoTrade.zConfigFullTx();
+		}
+		else
+		{
+			BcpRepoTrade.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBcpRepoTradeData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkBcpRepoTradeData(1, (BcpRepoTradeData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateBcpRepoTradePkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getBcpRepoTradeTableName();
+	}
+
+	public String getBcpRepoTradeTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BcpRepoTradeData data = (BcpRepoTradeData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (BcpRepoTradeFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BcpRepoTradeData data = (BcpRepoTradeData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getRepoId());
+		stm.setInt(pos++, data.getCompanyId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == BcpRepoTradeFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == BcpRepoTradeFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (BcpRepoTradeFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "repo_id = ? AND company_id = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.repo_id,t0.company_id,t0.ref_date,t0.ref_seq_num,t0.ref_piece_num,t0.ref_gen_num,t0.account_id,t0.trading_acct_code,t0.account2_id,t0.account2_num,t0.customer_acct_num,t0.customer_acct_name,t0.product_id,t0.buy_sell_ind,t0.commitment_type,t0.start_date,t0.trade_date,t0.end_date,t0.accrual_start_date,t0.repo_rate,t0.quantity,t0.amount,t0.market_value,t0.trade_currency,t0.trade_currency_rate,t0.foreign_amt,t0.end_amount,t0.clearing_agent,t0.transaction_codes,t0.special_trade_type,t0.\"source\",t0.coupon_payment_method,t0.acct_agg_type,t0.record_type,t0.repo_class,t0.is_hic,t0.hic_acct_num,t0.is_permanent,t0.is_tri_party,t0.is_internal_trade,t0.is_match_book,t0.is_interest_only,t0.is_gscc_netted,t0.has_collateral,t0.exclusion_type_code,t0.from_z,t0.thru_z,t0.in_z,t0.out_z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*49);
+		result.append(databaseAlias).append(".").append("repo_id");
+		result.append(",").append(databaseAlias).append(".").append("company_id");
+		result.append(",").append(databaseAlias).append(".").append("ref_date");
+		result.append(",").append(databaseAlias).append(".").append("ref_seq_num");
+		result.append(",").append(databaseAlias).append(".").append("ref_piece_num");
+		result.append(",").append(databaseAlias).append(".").append("ref_gen_num");
+		result.append(",").append(databaseAlias).append(".").append("account_id");
+		result.append(",").append(databaseAlias).append(".").append("trading_acct_code");
+		result.append(",").append(databaseAlias).append(".").append("account2_id");
+		result.append(",").append(databaseAlias).append(".").append("account2_num");
+		result.append(",").append(databaseAlias).append(".").append("customer_acct_num");
+		result.append(",").append(databaseAlias).append(".").append("customer_acct_name");
+		result.append(",").append(databaseAlias).append(".").append("product_id");
+		result.append(",").append(databaseAlias).append(".").append("buy_sell_ind");
+		result.append(",").append(databaseAlias).append(".").append("commitment_type");
+		result.append(",").append(databaseAlias).append(".").append("start_date");
+		result.append(",").append(databaseAlias).append(".").append("trade_date");
+		result.append(",").append(databaseAlias).append(".").append("end_date");
+		result.append(",").append(databaseAlias).append(".").append("accrual_start_date");
+		result.append(",").append(databaseAlias).append(".").append("repo_rate");
+		result.append(",").append(databaseAlias).append(".").append("quantity");
+		result.append(",").append(databaseAlias).append(".").append("amount");
+		result.append(",").append(databaseAlias).append(".").append("market_value");
+		result.append(",").append(databaseAlias).append(".").append("trade_currency");
+		result.append(",").append(databaseAlias).append(".").append("trade_currency_rate");
+		result.append(",").append(databaseAlias).append(".").append("foreign_amt");
+		result.append(",").append(databaseAlias).append(".").append("end_amount");
+		result.append(",").append(databaseAlias).append(".").append("clearing_agent");
+		result.append(",").append(databaseAlias).append(".").append("transaction_codes");
+		result.append(",").append(databaseAlias).append(".").append("special_trade_type");
+		result.append(",").append(databaseAlias).append(".").append("\"source\"");
+		result.append(",").append(databaseAlias).append(".").append("coupon_payment_method");
+		result.append(",").append(databaseAlias).append(".").append("acct_agg_type");
+		result.append(",").append(databaseAlias).append(".").append("record_type");
+		result.append(",").append(databaseAlias).append(".").append("repo_class");
+		result.append(",").append(databaseAlias).append(".").append("is_hic");
+		result.append(",").append(databaseAlias).append(".").append("hic_acct_num");
+		result.append(",").append(databaseAlias).append(".").append("is_permanent");
+		result.append(",").append(databaseAlias).append(".").append("is_tri_party");
+		result.append(",").append(databaseAlias).append(".").append("is_internal_trade");
+		result.append(",").append(databaseAlias).append(".").append("is_match_book");
+		result.append(",").append(databaseAlias).append(".").append("is_interest_only");
+		result.append(",").append(databaseAlias).append(".").append("is_gscc_netted");
+		result.append(",").append(databaseAlias).append(".").append("has_collateral");
+		result.append(",").append(databaseAlias).append(".").append("exclusion_type_code");
+		result.append(",").append(databaseAlias).append(".").append("from_z");
+		result.append(",").append(databaseAlias).append(".").append("thru_z");
+		result.append(",").append(databaseAlias).append(".").append("in_z");
+		result.append(",").append(databaseAlias).append(".").append("out_z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public BcpRepoTradeData inflateBcpRepoTradeData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		BcpRepoTradeData data = inflateBcpRepoTradePkData(rs, dt);
+		inflateNonPkBcpRepoTradeData(3, data, rs, dt);
+		return data;
+	}
+
+	public BcpRepoTradeData inflateBcpRepoTradePkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		BcpRepoTradeData _data = new BcpRepoTradeData.BcpRepoTradeDataOnHeap();
+		int _pos = 1;
+		_data.setRepoId(trimString(_rs.getString(_pos++)));
+		_data.setCompanyId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "companyId");
+		return _data;
+	}
+
+	public void inflateNonPkBcpRepoTradeData(int _pos, BcpRepoTradeData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			BcpRepoTradeData _data = _datax;
+			_data.setRefDate(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "refDate");
+			_data.setRefSeqNum(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "refSeqNum");
+			_data.setRefPieceNum(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "refPieceNum");
+			_data.setRefGenNum(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "refGenNum");
+			_data.setAccountId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAccountIdNull();
+			}
+
+			_data.setTradingAcctCode(trimString(_rs.getString(_pos++)));
+			_data.setAccount2Id(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAccount2IdNull();
+			}
+
+			_data.setAccount2Num(trimString(_rs.getString(_pos++)));
+			_data.setCustomerAcctNum(trimString(_rs.getString(_pos++)));
+			_data.setCustomerAcctName(trimString(_rs.getString(_pos++)));
+			_data.setProductId(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "productId");
+			_data.setBuySellInd(trimString(_rs.getString(_pos++)));
+			_data.setCommitmentTypeCode(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "commitmentTypeCode");
+			Timestamp startDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setStartDate(startDatetimestampValue);
+			Timestamp tradeDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setTradeDate(tradeDatetimestampValue);
+			Timestamp endDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setEndDate(endDatetimestampValue);
+			Timestamp accrualStartDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setAccrualStartDate(accrualStartDatetimestampValue);
+			_data.setRepoRate(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "repoRate");
+			_data.setQuantity(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "quantity");
+			_data.setAmount(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "amount");
+			_data.setMarketValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMarketValueNull();
+			}
+
+			_data.setTradeCurrencyCode(trimString(_rs.getString(_pos++)));
+			_data.setTradeCurrencyRate(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTradeCurrencyRateNull();
+			}
+
+			_data.setForeignAmt(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setForeignAmtNull();
+			}
+
+			_data.setEndAmount(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setEndAmountNull();
+			}
+
+			_data.setClearingAgent(trimString(_rs.getString(_pos++)));
+			_data.setTransactionCodes(trimString(_rs.getString(_pos++)));
+			_data.setSpecialTradeType(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setSpecialTradeTypeNull();
+			}
+
+			_data.setSource(trimString(_rs.getString(_pos++)));
+			_data.setCouponPaymentMethod(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCouponPaymentMethodNull();
+			}
+
+			_data.setAcctAggType(trimString(_rs.getString(_pos++)));
+			_data.setRecordType(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "recordType");
+			_data.setRepoClass(trimString(_rs.getString(_pos++)));
+			_data.setIsHic(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "isHic");
+			_data.setHicAcctNum(trimString(_rs.getString(_pos++)));
+			_data.setIsPermanent(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "isPermanent");
+			_data.setIsTriParty(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "isTriParty");
+			_data.setIsInternalTrade(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "isInternalTrade");
+			_data.setIsMatchBook(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "isMatchBook");
+			_data.setIsInterestOnly(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "isInterestOnly");
+			_data.setIsGsccNetted(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setIsGsccNettedNull();
+			}
+
+			_data.setHasCollateral(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "hasCollateral");
+			_data.setExclusionTypeCode(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setExclusionTypeCodeNull();
+			}
+
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				BcpRepoTradeFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				BcpRepoTradeFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getBcpRepoTradeTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "BCP_REPO_TRADE";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		BcpRepoTradeData data = (BcpRepoTradeData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if(data.isRepoIdNull())
+		{
+			throwNullAttribute("repoId");
+		}
+
+		stm.setString(pos++, data.getRepoId());
+		stm.setInt(pos++, data.getRefDate());
+		stm.setInt(pos++, data.getRefSeqNum());
+		stm.setInt(pos++, data.getRefPieceNum());
+		stm.setInt(pos++, data.getRefGenNum());
+		if (data.isAccountIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getAccountId());
+		}
+
+		if(data.isTradingAcctCodeNull())
+		{
+			throwNullAttribute("tradingAcctCode");
+		}
+
+		stm.setString(pos++, data.getTradingAcctCode());
+		stm.setInt(pos++, data.getCompanyId());
+		if (data.isAccount2IdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getAccount2Id());
+		}
+
+		if (data.isAccount2NumNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAccount2Num());
+		}
+
+		if (data.isCustomerAcctNumNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getCustomerAcctNum());
+		}
+
+		if (data.isCustomerAcctNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getCustomerAcctName());
+		}
+
+		stm.setInt(pos++, data.getProductId());
+		if (data.isBuySellIndNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getBuySellInd());
+		}
+
+		stm.setInt(pos++, data.getCommitmentTypeCode());
+		if(data.isStartDateNull())
+		{
+			throwNullAttribute("startDate");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getStartDate(), false, conversionTimeZone);
+		pos++;
+		if(data.isTradeDateNull())
+		{
+			throwNullAttribute("tradeDate");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getTradeDate(), false, conversionTimeZone);
+		pos++;
+		if(data.isEndDateNull())
+		{
+			throwNullAttribute("endDate");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getEndDate(), false, conversionTimeZone);
+		pos++;
+		if (data.isAccrualStartDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getAccrualStartDate(), false, conversionTimeZone);
+			pos++;
+		}
+
+		stm.setDouble(pos++, data.getRepoRate());
+		stm.setDouble(pos++, data.getQuantity());
+		stm.setDouble(pos++, data.getAmount());
+		if (data.isMarketValueNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMarketValue());
+		}
+
+		if(data.isTradeCurrencyCodeNull())
+		{
+			throwNullAttribute("tradeCurrencyCode");
+		}
+
+		stm.setString(pos++, data.getTradeCurrencyCode());
+		if (data.isTradeCurrencyRateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTradeCurrencyRate());
+		}
+
+		if (data.isForeignAmtNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getForeignAmt());
+		}
+
+		if (data.isEndAmountNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getEndAmount());
+		}
+
+		if (data.isClearingAgentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getClearingAgent());
+		}
+
+		if (data.isTransactionCodesNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getTransactionCodes());
+		}
+
+		if (data.isSpecialTradeTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getSpecialTradeType());
+		}
+
+		if(data.isSourceNull())
+		{
+			throwNullAttribute("source");
+		}
+
+		stm.setString(pos++, data.getSource());
+		if (data.isCouponPaymentMethodNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getCouponPaymentMethod());
+		}
+
+		if(data.isAcctAggTypeNull())
+		{
+			throwNullAttribute("acctAggType");
+		}
+
+		stm.setString(pos++, data.getAcctAggType());
+		stm.setInt(pos++, data.getRecordType());
+		if (data.isRepoClassNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getRepoClass());
+		}
+
+		stm.setInt(pos++, data.getIsHic());
+		if (data.isHicAcctNumNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getHicAcctNum());
+		}
+
+		stm.setInt(pos++, data.getIsPermanent());
+		stm.setInt(pos++, data.getIsTriParty());
+		stm.setInt(pos++, data.getIsInternalTrade());
+		stm.setInt(pos++, data.getIsMatchBook());
+		stm.setInt(pos++, data.getIsInterestOnly());
+		if (data.isIsGsccNettedNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getIsGsccNetted());
+		}
+
+		stm.setInt(pos++, data.getHasCollateral());
+		if (data.isExclusionTypeCodeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getExclusionTypeCode());
+		}
+
+		if(data.isBusinessDateFromNull())
+		{
+			throwNullAttribute("businessDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getBusinessDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isBusinessDateToNull())
+		{
+			throwNullAttribute("businessDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == BcpRepoTradeFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == BcpRepoTradeFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "repo_id,ref_date,ref_seq_num,ref_piece_num,ref_gen_num,account_id,trading_acct_code,company_id,account2_id,account2_num,customer_acct_num,customer_acct_name,product_id,buy_sell_ind,commitment_type,start_date,trade_date,end_date,accrual_start_date,repo_rate,quantity,amount,market_value,trade_currency,trade_currency_rate,foreign_amt,end_amount,clearing_agent,transaction_codes,special_trade_type,\"source\",coupon_payment_method,acct_agg_type,record_type,repo_class,is_hic,hic_acct_num,is_permanent,is_tri_party,is_internal_trade,is_match_book,is_interest_only,is_gscc_netted,has_collateral,exclusion_type_code,from_z,thru_z,in_z,out_z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND in_z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		BcpRepoTrade newObject = new BcpRepoTrade(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromBcpRepoTradeData((BcpRepoTradeData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(BcpRepoTradeFinder.getMithraObjectPortal(),
+			BcpRepoTradeFinder.processingDate())
+		,BcpRepoTradeFinder.businessDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="thru_z = ?";
+		result += " AND ";
+		result +="out_z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		BcpRepoTradeData data = (BcpRepoTradeData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getRepoId());
+		stm.setInt(pos++, data.getCompanyId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, BcpRepoTradeFinder.businessDate(),
+			BcpRepoTradeFinder.processingDate());
+	}
+}
@@ -0,0 +1,1712 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BcpRepoTradeFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity(), true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/bcp/BcpRepoTrade";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTrade";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTrade");
+	private static final BcpRepoTradeSingleFinder<BcpRepoTrade, Object, BcpRepoTrade> finder = new BcpRepoTradeSingleFinder<BcpRepoTrade, Object, BcpRepoTrade>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BcpRepoTradeFinder.BcpRepoTradeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("repoId");
+		finderMethodMap.addNormalAttributeName("refDate");
+		finderMethodMap.addNormalAttributeName("refSeqNum");
+		finderMethodMap.addNormalAttributeName("refPieceNum");
+		finderMethodMap.addNormalAttributeName("refGenNum");
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("tradingAcctCode");
+		finderMethodMap.addNormalAttributeName("companyId");
+		finderMethodMap.addNormalAttributeName("account2Id");
+		finderMethodMap.addNormalAttributeName("account2Num");
+		finderMethodMap.addNormalAttributeName("customerAcctNum");
+		finderMethodMap.addNormalAttributeName("customerAcctName");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("buySellInd");
+		finderMethodMap.addNormalAttributeName("commitmentTypeCode");
+		finderMethodMap.addNormalAttributeName("startDate");
+		finderMethodMap.addNormalAttributeName("tradeDate");
+		finderMethodMap.addNormalAttributeName("endDate");
+		finderMethodMap.addNormalAttributeName("accrualStartDate");
+		finderMethodMap.addNormalAttributeName("repoRate");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("amount");
+		finderMethodMap.addNormalAttributeName("marketValue");
+		finderMethodMap.addNormalAttributeName("tradeCurrencyCode");
+		finderMethodMap.addNormalAttributeName("tradeCurrencyRate");
+		finderMethodMap.addNormalAttributeName("foreignAmt");
+		finderMethodMap.addNormalAttributeName("endAmount");
+		finderMethodMap.addNormalAttributeName("clearingAgent");
+		finderMethodMap.addNormalAttributeName("transactionCodes");
+		finderMethodMap.addNormalAttributeName("specialTradeType");
+		finderMethodMap.addNormalAttributeName("source");
+		finderMethodMap.addNormalAttributeName("couponPaymentMethod");
+		finderMethodMap.addNormalAttributeName("acctAggType");
+		finderMethodMap.addNormalAttributeName("recordType");
+		finderMethodMap.addNormalAttributeName("repoClass");
+		finderMethodMap.addNormalAttributeName("isHic");
+		finderMethodMap.addNormalAttributeName("hicAcctNum");
+		finderMethodMap.addNormalAttributeName("isPermanent");
+		finderMethodMap.addNormalAttributeName("isTriParty");
+		finderMethodMap.addNormalAttributeName("isInternalTrade");
+		finderMethodMap.addNormalAttributeName("isMatchBook");
+		finderMethodMap.addNormalAttributeName("isInterestOnly");
+		finderMethodMap.addNormalAttributeName("isGsccNetted");
+		finderMethodMap.addNormalAttributeName("hasCollateral");
+		finderMethodMap.addNormalAttributeName("exclusionTypeCode");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BcpRepoTrade findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BcpRepoTrade findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BcpRepoTradeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BcpRepoTradeList) finder.findMany(operation);
+	}
+
+	public static BcpRepoTradeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BcpRepoTradeList) finder.findManyBypassCache(operation);
+	}
+
+	private static BcpRepoTrade findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BcpRepoTrade) FinderUtils.findOne(found);
+	}
+
+	public static BcpRepoTrade findByPrimaryKey(String repoId, int companyId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(repoId, companyId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BcpRepoTradeData _castedTargetData = (BcpRepoTradeData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getRepoId()) && _bean.getI1AsInteger() == _castedTargetData.getCompanyId())
+			{
+				return BcpRepoTradeFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BcpRepoTradeFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static BcpRepoTrade zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BcpRepoTrade) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BcpRepoTradeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BcpRepoTrade, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> repoId;
+		private IntegerAttribute<ParentOwnerType> refDate;
+		private IntegerAttribute<ParentOwnerType> refSeqNum;
+		private IntegerAttribute<ParentOwnerType> refPieceNum;
+		private IntegerAttribute<ParentOwnerType> refGenNum;
+		private IntegerAttribute<ParentOwnerType> accountId;
+		private StringAttribute<ParentOwnerType> tradingAcctCode;
+		private IntegerAttribute<ParentOwnerType> companyId;
+		private IntegerAttribute<ParentOwnerType> account2Id;
+		private StringAttribute<ParentOwnerType> account2Num;
+		private StringAttribute<ParentOwnerType> customerAcctNum;
+		private StringAttribute<ParentOwnerType> customerAcctName;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private StringAttribute<ParentOwnerType> buySellInd;
+		private IntegerAttribute<ParentOwnerType> commitmentTypeCode;
+		private TimestampAttribute<ParentOwnerType> startDate;
+		private TimestampAttribute<ParentOwnerType> tradeDate;
+		private TimestampAttribute<ParentOwnerType> endDate;
+		private TimestampAttribute<ParentOwnerType> accrualStartDate;
+		private DoubleAttribute<ParentOwnerType> repoRate;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> amount;
+		private DoubleAttribute<ParentOwnerType> marketValue;
+		private StringAttribute<ParentOwnerType> tradeCurrencyCode;
+		private DoubleAttribute<ParentOwnerType> tradeCurrencyRate;
+		private DoubleAttribute<ParentOwnerType> foreignAmt;
+		private DoubleAttribute<ParentOwnerType> endAmount;
+		private StringAttribute<ParentOwnerType> clearingAgent;
+		private StringAttribute<ParentOwnerType> transactionCodes;
+		private IntegerAttribute<ParentOwnerType> specialTradeType;
+		private StringAttribute<ParentOwnerType> source;
+		private IntegerAttribute<ParentOwnerType> couponPaymentMethod;
+		private StringAttribute<ParentOwnerType> acctAggType;
+		private IntegerAttribute<ParentOwnerType> recordType;
+		private StringAttribute<ParentOwnerType> repoClass;
+		private IntegerAttribute<ParentOwnerType> isHic;
+		private StringAttribute<ParentOwnerType> hicAcctNum;
+		private IntegerAttribute<ParentOwnerType> isPermanent;
+		private IntegerAttribute<ParentOwnerType> isTriParty;
+		private IntegerAttribute<ParentOwnerType> isInternalTrade;
+		private IntegerAttribute<ParentOwnerType> isMatchBook;
+		private IntegerAttribute<ParentOwnerType> isInterestOnly;
+		private IntegerAttribute<ParentOwnerType> isGsccNetted;
+		private IntegerAttribute<ParentOwnerType> hasCollateral;
+		private IntegerAttribute<ParentOwnerType> exclusionTypeCode;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BcpRepoTradeRelatedFinder()
+		{
+			super();
+		}
+
+		public BcpRepoTradeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTradeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BcpRepoTradeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BcpRepoTradeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BcpRepoTradeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[49];
+			attributes[0] = this.repoId();
+			attributes[1] = this.refDate();
+			attributes[2] = this.refSeqNum();
+			attributes[3] = this.refPieceNum();
+			attributes[4] = this.refGenNum();
+			attributes[5] = this.accountId();
+			attributes[6] = this.tradingAcctCode();
+			attributes[7] = this.companyId();
+			attributes[8] = this.account2Id();
+			attributes[9] = this.account2Num();
+			attributes[10] = this.customerAcctNum();
+			attributes[11] = this.customerAcctName();
+			attributes[12] = this.productId();
+			attributes[13] = this.buySellInd();
+			attributes[14] = this.commitmentTypeCode();
+			attributes[15] = this.startDate();
+			attributes[16] = this.tradeDate();
+			attributes[17] = this.endDate();
+			attributes[18] = this.accrualStartDate();
+			attributes[19] = this.repoRate();
+			attributes[20] = this.quantity();
+			attributes[21] = this.amount();
+			attributes[22] = this.marketValue();
+			attributes[23] = this.tradeCurrencyCode();
+			attributes[24] = this.tradeCurrencyRate();
+			attributes[25] = this.foreignAmt();
+			attributes[26] = this.endAmount();
+			attributes[27] = this.clearingAgent();
+			attributes[28] = this.transactionCodes();
+			attributes[29] = this.specialTradeType();
+			attributes[30] = this.source();
+			attributes[31] = this.couponPaymentMethod();
+			attributes[32] = this.acctAggType();
+			attributes[33] = this.recordType();
+			attributes[34] = this.repoClass();
+			attributes[35] = this.isHic();
+			attributes[36] = this.hicAcctNum();
+			attributes[37] = this.isPermanent();
+			attributes[38] = this.isTriParty();
+			attributes[39] = this.isInternalTrade();
+			attributes[40] = this.isMatchBook();
+			attributes[41] = this.isInterestOnly();
+			attributes[42] = this.isGsccNetted();
+			attributes[43] = this.hasCollateral();
+			attributes[44] = this.exclusionTypeCode();
+			attributes[45] = this.businessDateFrom();
+			attributes[46] = this.businessDateTo();
+			attributes[47] = this.processingDateFrom();
+			attributes[48] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BcpRepoTrade findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BcpRepoTradeFinder.findOne(operation, false);
+		}
+
+		public BcpRepoTrade findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BcpRepoTradeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BcpRepoTrade> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BcpRepoTradeList((Operation) operation);
+		}
+
+		public MithraList<? extends BcpRepoTrade> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BcpRepoTradeList result = (BcpRepoTradeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BcpRepoTrade> constructEmptyList()
+		{
+			return new BcpRepoTradeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1391780058;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> repoId()
+		{
+			StringAttribute<ParentOwnerType> result = this.repoId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("repo_id","","repoId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,23,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.repoId(), this.mapper, this.zGetValueSelector());
+				this.repoId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> refDate()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.refDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ref_date","","refDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,192,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.refDate(), this.mapper, this.zGetValueSelector());
+				this.refDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> refSeqNum()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.refSeqNum;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ref_seq_num","","refSeqNum",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,204,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.refSeqNum(), this.mapper, this.zGetValueSelector());
+				this.refSeqNum = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> refPieceNum()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.refPieceNum;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ref_piece_num","","refPieceNum",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,200,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.refPieceNum(), this.mapper, this.zGetValueSelector());
+				this.refPieceNum = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> refGenNum()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.refGenNum;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ref_gen_num","","refGenNum",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,196,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.refGenNum(), this.mapper, this.zGetValueSelector());
+				this.refGenNum = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> accountId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("account_id","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,24,4,1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.accountId(), this.mapper, this.zGetValueSelector());
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> tradingAcctCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.tradingAcctCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("trading_acct_code","","tradingAcctCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,256,-1,-1,3,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.tradingAcctCode(), this.mapper, this.zGetValueSelector());
+				this.tradingAcctCode = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> companyId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.companyId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("company_id","","companyId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.companyId(), this.mapper, this.zGetValueSelector());
+				this.companyId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> account2Id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.account2Id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("account2_id","","account2Id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,16,4,0,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.account2Id(), this.mapper, this.zGetValueSelector());
+				this.account2Id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> account2Num()
+		{
+			StringAttribute<ParentOwnerType> result = this.account2Num;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("account2_num","","account2Num",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,20,-1,-1,10,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.account2Num(), this.mapper, this.zGetValueSelector());
+				this.account2Num = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> customerAcctNum()
+		{
+			StringAttribute<ParentOwnerType> result = this.customerAcctNum;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("customer_acct_num","","customerAcctNum",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,84,-1,-1,10,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.customerAcctNum(), this.mapper, this.zGetValueSelector());
+				this.customerAcctNum = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> customerAcctName()
+		{
+			StringAttribute<ParentOwnerType> result = this.customerAcctName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("customer_acct_name","","customerAcctName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,80,-1,-1,40,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.customerAcctName(), this.mapper, this.zGetValueSelector());
+				this.customerAcctName = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("product_id","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,176,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> buySellInd()
+		{
+			StringAttribute<ParentOwnerType> result = this.buySellInd;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("buy_sell_ind","","buySellInd",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,64,-1,-1,1,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.buySellInd(), this.mapper, this.zGetValueSelector());
+				this.buySellInd = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> commitmentTypeCode()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.commitmentTypeCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("commitment_type","","commitmentTypeCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,72,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.commitmentTypeCode(), this.mapper, this.zGetValueSelector());
+				this.commitmentTypeCode = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> startDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.startDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("start_date","","startDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,228,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpRepoTradeFinder.startDate(), this.mapper, this.zGetValueSelector());
+				this.startDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> tradeDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.tradeDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("trade_date","","tradeDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,248,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpRepoTradeFinder.tradeDate(), this.mapper, this.zGetValueSelector());
+				this.tradeDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> endDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.endDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("end_date","","endDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,96,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpRepoTradeFinder.endDate(), this.mapper, this.zGetValueSelector());
+				this.endDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> accrualStartDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.accrualStartDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("accrual_start_date","","accrualStartDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpRepoTradeFinder.accrualStartDate(), this.mapper, this.zGetValueSelector());
+				this.accrualStartDate = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> repoRate()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.repoRate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("repo_rate","","repoRate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,212,-1,-1, false) :
+					new MappedDoubleAttribute(BcpRepoTradeFinder.repoRate(), this.mapper, this.zGetValueSelector());
+				this.repoRate = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("quantity","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,180,-1,-1, false) :
+					new MappedDoubleAttribute(BcpRepoTradeFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> amount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.amount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("amount","","amount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1, false) :
+					new MappedDoubleAttribute(BcpRepoTradeFinder.amount(), this.mapper, this.zGetValueSelector());
+				this.amount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> marketValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.marketValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("market_value","","marketValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,152,4,7, false) :
+					new MappedDoubleAttribute(BcpRepoTradeFinder.marketValue(), this.mapper, this.zGetValueSelector());
+				this.marketValue = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> tradeCurrencyCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.tradeCurrencyCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("trade_currency","","tradeCurrencyCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,236,-1,-1,3,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.tradeCurrencyCode(), this.mapper, this.zGetValueSelector());
+				this.tradeCurrencyCode = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> tradeCurrencyRate()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.tradeCurrencyRate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("trade_currency_rate","","tradeCurrencyRate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,240,4,9, false) :
+					new MappedDoubleAttribute(BcpRepoTradeFinder.tradeCurrencyRate(), this.mapper, this.zGetValueSelector());
+				this.tradeCurrencyRate = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> foreignAmt()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.foreignAmt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("foreign_amt","","foreignAmt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,108,4,5, false) :
+					new MappedDoubleAttribute(BcpRepoTradeFinder.foreignAmt(), this.mapper, this.zGetValueSelector());
+				this.foreignAmt = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> endAmount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.endAmount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("end_amount","","endAmount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,88,4,3, false) :
+					new MappedDoubleAttribute(BcpRepoTradeFinder.endAmount(), this.mapper, this.zGetValueSelector());
+				this.endAmount = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> clearingAgent()
+		{
+			StringAttribute<ParentOwnerType> result = this.clearingAgent;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("clearing_agent","","clearingAgent",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,68,-1,-1,3,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.clearingAgent(), this.mapper, this.zGetValueSelector());
+				this.clearingAgent = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> transactionCodes()
+		{
+			StringAttribute<ParentOwnerType> result = this.transactionCodes;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("transaction_codes","","transactionCodes",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,260,-1,-1,20,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.transactionCodes(), this.mapper, this.zGetValueSelector());
+				this.transactionCodes = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> specialTradeType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.specialTradeType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("special_trade_type","","specialTradeType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,224,4,8,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.specialTradeType(), this.mapper, this.zGetValueSelector());
+				this.specialTradeType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> source()
+		{
+			StringAttribute<ParentOwnerType> result = this.source;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"source\"","","source",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,220,-1,-1,1,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.source(), this.mapper, this.zGetValueSelector());
+				this.source = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> couponPaymentMethod()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.couponPaymentMethod;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("coupon_payment_method","","couponPaymentMethod",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,76,4,2,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.couponPaymentMethod(), this.mapper, this.zGetValueSelector());
+				this.couponPaymentMethod = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acctAggType()
+		{
+			StringAttribute<ParentOwnerType> result = this.acctAggType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("acct_agg_type","","acctAggType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,36,-1,-1,10,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.acctAggType(), this.mapper, this.zGetValueSelector());
+				this.acctAggType = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> recordType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.recordType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("record_type","","recordType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,188,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.recordType(), this.mapper, this.zGetValueSelector());
+				this.recordType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> repoClass()
+		{
+			StringAttribute<ParentOwnerType> result = this.repoClass;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("repo_class","","repoClass",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,208,-1,-1,2,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.repoClass(), this.mapper, this.zGetValueSelector());
+				this.repoClass = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> isHic()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.isHic;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("is_hic","","isHic",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,128,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.isHic(), this.mapper, this.zGetValueSelector());
+				this.isHic = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> hicAcctNum()
+		{
+			StringAttribute<ParentOwnerType> result = this.hicAcctNum;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("hic_acct_num","","hicAcctNum",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,120,-1,-1,10,true, false) :
+					new MappedStringAttribute(BcpRepoTradeFinder.hicAcctNum(), this.mapper, this.zGetValueSelector());
+				this.hicAcctNum = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> isPermanent()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.isPermanent;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("is_permanent","","isPermanent",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,144,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.isPermanent(), this.mapper, this.zGetValueSelector());
+				this.isPermanent = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> isTriParty()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.isTriParty;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("is_tri_party","","isTriParty",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,148,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.isTriParty(), this.mapper, this.zGetValueSelector());
+				this.isTriParty = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> isInternalTrade()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.isInternalTrade;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("is_internal_trade","","isInternalTrade",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,136,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.isInternalTrade(), this.mapper, this.zGetValueSelector());
+				this.isInternalTrade = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> isMatchBook()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.isMatchBook;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("is_match_book","","isMatchBook",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,140,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.isMatchBook(), this.mapper, this.zGetValueSelector());
+				this.isMatchBook = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> isInterestOnly()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.isInterestOnly;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("is_interest_only","","isInterestOnly",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,132,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.isInterestOnly(), this.mapper, this.zGetValueSelector());
+				this.isInterestOnly = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> isGsccNetted()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.isGsccNetted;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("is_gscc_netted","","isGsccNetted",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,124,4,6,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.isGsccNetted(), this.mapper, this.zGetValueSelector());
+				this.isGsccNetted = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> hasCollateral()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.hasCollateral;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("has_collateral","","hasCollateral",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,116,-1,-1,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.hasCollateral(), this.mapper, this.zGetValueSelector());
+				this.hasCollateral = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> exclusionTypeCode()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.exclusionTypeCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("exclusion_type_code","","exclusionTypeCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,104,4,4,false, false) :
+					new MappedIntegerAttribute(BcpRepoTradeFinder.exclusionTypeCode(), this.mapper, this.zGetValueSelector());
+				this.exclusionTypeCode = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("from_z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BcpRepoTradeFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpRepoTradeFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("thru_z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,56,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BcpRepoTradeFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpRepoTradeFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("in_z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,160,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BcpRepoTradeFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpRepoTradeFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("out_z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,168,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BcpRepoTradeFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BcpRepoTradeFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BcpRepoTradeFinder.businessDateInfinity,false,false,BcpRepoTradeFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BcpRepoTradeFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BcpRepoTradeFinder.processingDateInfinity,false,true,BcpRepoTradeFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BcpRepoTradeFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BcpRepoTradeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BcpRepoTradeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BcpRepoTradeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BcpRepoTradeRelatedFinder<ParentOwnerType, ReturnType, BcpRepoTradeList, OwnerType>
+	{
+		public BcpRepoTradeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BcpRepoTradeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BcpRepoTradeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BcpRepoTradeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BcpRepoTradeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BcpRepoTradeRelatedFinder<ParentOwnerType, ReturnType, BcpRepoTradeList, OwnerType>
+	implements ToOneFinder
+	{
+		public BcpRepoTradeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BcpRepoTradeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BcpRepoTrade other)
+		{
+			return this.repoId().eq(other.getRepoId())
+			.and(this.companyId().eq(other.getCompanyId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BcpRepoTrade findByPrimaryKey(String repoId, int companyId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BcpRepoTrade _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (repoId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(repoId);
+				_bean.setI1AsInteger(companyId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BcpRepoTrade) _related;
+			if (_related == null)
+			{
+				_op = this.repoId().eq(repoId).and(this.companyId().eq(companyId)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BcpRepoTradeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BcpRepoTradeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BcpRepoTradeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to BCP_REPO_TRADE.repo_id **/
+	public static StringAttribute<BcpRepoTrade> repoId()
+	{
+		return finder.repoId();
+	}
+
+	/** maps to BCP_REPO_TRADE.ref_date **/
+	public static IntegerAttribute<BcpRepoTrade> refDate()
+	{
+		return finder.refDate();
+	}
+
+	/** maps to BCP_REPO_TRADE.ref_seq_num **/
+	public static IntegerAttribute<BcpRepoTrade> refSeqNum()
+	{
+		return finder.refSeqNum();
+	}
+
+	/** maps to BCP_REPO_TRADE.ref_piece_num **/
+	public static IntegerAttribute<BcpRepoTrade> refPieceNum()
+	{
+		return finder.refPieceNum();
+	}
+
+	/** maps to BCP_REPO_TRADE.ref_gen_num **/
+	public static IntegerAttribute<BcpRepoTrade> refGenNum()
+	{
+		return finder.refGenNum();
+	}
+
+	/** maps to BCP_REPO_TRADE.account_id **/
+	public static IntegerAttribute<BcpRepoTrade> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to BCP_REPO_TRADE.trading_acct_code **/
+	public static StringAttribute<BcpRepoTrade> tradingAcctCode()
+	{
+		return finder.tradingAcctCode();
+	}
+
+	/** maps to BCP_REPO_TRADE.company_id **/
+	public static IntegerAttribute<BcpRepoTrade> companyId()
+	{
+		return finder.companyId();
+	}
+
+	/** maps to BCP_REPO_TRADE.account2_id **/
+	public static IntegerAttribute<BcpRepoTrade> account2Id()
+	{
+		return finder.account2Id();
+	}
+
+	/** maps to BCP_REPO_TRADE.account2_num **/
+	public static StringAttribute<BcpRepoTrade> account2Num()
+	{
+		return finder.account2Num();
+	}
+
+	/** maps to BCP_REPO_TRADE.customer_acct_num **/
+	public static StringAttribute<BcpRepoTrade> customerAcctNum()
+	{
+		return finder.customerAcctNum();
+	}
+
+	/** maps to BCP_REPO_TRADE.customer_acct_name **/
+	public static StringAttribute<BcpRepoTrade> customerAcctName()
+	{
+		return finder.customerAcctName();
+	}
+
+	/** maps to BCP_REPO_TRADE.product_id **/
+	public static IntegerAttribute<BcpRepoTrade> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to BCP_REPO_TRADE.buy_sell_ind **/
+	public static StringAttribute<BcpRepoTrade> buySellInd()
+	{
+		return finder.buySellInd();
+	}
+
+	/** maps to BCP_REPO_TRADE.commitment_type **/
+	public static IntegerAttribute<BcpRepoTrade> commitmentTypeCode()
+	{
+		return finder.commitmentTypeCode();
+	}
+
+	/** maps to BCP_REPO_TRADE.start_date **/
+	public static TimestampAttribute<BcpRepoTrade> startDate()
+	{
+		return finder.startDate();
+	}
+
+	/** maps to BCP_REPO_TRADE.trade_date **/
+	public static TimestampAttribute<BcpRepoTrade> tradeDate()
+	{
+		return finder.tradeDate();
+	}
+
+	/** maps to BCP_REPO_TRADE.end_date **/
+	public static TimestampAttribute<BcpRepoTrade> endDate()
+	{
+		return finder.endDate();
+	}
+
+	/** maps to BCP_REPO_TRADE.accrual_start_date **/
+	public static TimestampAttribute<BcpRepoTrade> accrualStartDate()
+	{
+		return finder.accrualStartDate();
+	}
+
+	/** maps to BCP_REPO_TRADE.repo_rate **/
+	public static DoubleAttribute<BcpRepoTrade> repoRate()
+	{
+		return finder.repoRate();
+	}
+
+	/** maps to BCP_REPO_TRADE.quantity **/
+	public static DoubleAttribute<BcpRepoTrade> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to BCP_REPO_TRADE.amount **/
+	public static DoubleAttribute<BcpRepoTrade> amount()
+	{
+		return finder.amount();
+	}
+
+	/** maps to BCP_REPO_TRADE.market_value **/
+	public static DoubleAttribute<BcpRepoTrade> marketValue()
+	{
+		return finder.marketValue();
+	}
+
+	/** maps to BCP_REPO_TRADE.trade_currency **/
+	public static StringAttribute<BcpRepoTrade> tradeCurrencyCode()
+	{
+		return finder.tradeCurrencyCode();
+	}
+
+	/** maps to BCP_REPO_TRADE.trade_currency_rate **/
+	public static DoubleAttribute<BcpRepoTrade> tradeCurrencyRate()
+	{
+		return finder.tradeCurrencyRate();
+	}
+
+	/** maps to BCP_REPO_TRADE.foreign_amt **/
+	public static DoubleAttribute<BcpRepoTrade> foreignAmt()
+	{
+		return finder.foreignAmt();
+	}
+
+	/** maps to BCP_REPO_TRADE.end_amount **/
+	public static DoubleAttribute<BcpRepoTrade> endAmount()
+	{
+		return finder.endAmount();
+	}
+
+	/** maps to BCP_REPO_TRADE.clearing_agent **/
+	public static StringAttribute<BcpRepoTrade> clearingAgent()
+	{
+		return finder.clearingAgent();
+	}
+
+	/** maps to BCP_REPO_TRADE.transaction_codes **/
+	public static StringAttribute<BcpRepoTrade> transactionCodes()
+	{
+		return finder.transactionCodes();
+	}
+
+	/** maps to BCP_REPO_TRADE.special_trade_type **/
+	public static IntegerAttribute<BcpRepoTrade> specialTradeType()
+	{
+		return finder.specialTradeType();
+	}
+
+	/** maps to BCP_REPO_TRADE."source" **/
+	public static StringAttribute<BcpRepoTrade> source()
+	{
+		return finder.source();
+	}
+
+	/** maps to BCP_REPO_TRADE.coupon_payment_method **/
+	public static IntegerAttribute<BcpRepoTrade> couponPaymentMethod()
+	{
+		return finder.couponPaymentMethod();
+	}
+
+	/** maps to BCP_REPO_TRADE.acct_agg_type **/
+	public static StringAttribute<BcpRepoTrade> acctAggType()
+	{
+		return finder.acctAggType();
+	}
+
+	/** maps to BCP_REPO_TRADE.record_type **/
+	public static IntegerAttribute<BcpRepoTrade> recordType()
+	{
+		return finder.recordType();
+	}
+
+	/** maps to BCP_REPO_TRADE.repo_class **/
+	public static StringAttribute<BcpRepoTrade> repoClass()
+	{
+		return finder.repoClass();
+	}
+
+	/** maps to BCP_REPO_TRADE.is_hic **/
+	public static IntegerAttribute<BcpRepoTrade> isHic()
+	{
+		return finder.isHic();
+	}
+
+	/** maps to BCP_REPO_TRADE.hic_acct_num **/
+	public static StringAttribute<BcpRepoTrade> hicAcctNum()
+	{
+		return finder.hicAcctNum();
+	}
+
+	/** maps to BCP_REPO_TRADE.is_permanent **/
+	public static IntegerAttribute<BcpRepoTrade> isPermanent()
+	{
+		return finder.isPermanent();
+	}
+
+	/** maps to BCP_REPO_TRADE.is_tri_party **/
+	public static IntegerAttribute<BcpRepoTrade> isTriParty()
+	{
+		return finder.isTriParty();
+	}
+
+	/** maps to BCP_REPO_TRADE.is_internal_trade **/
+	public static IntegerAttribute<BcpRepoTrade> isInternalTrade()
+	{
+		return finder.isInternalTrade();
+	}
+
+	/** maps to BCP_REPO_TRADE.is_match_book **/
+	public static IntegerAttribute<BcpRepoTrade> isMatchBook()
+	{
+		return finder.isMatchBook();
+	}
+
+	/** maps to BCP_REPO_TRADE.is_interest_only **/
+	public static IntegerAttribute<BcpRepoTrade> isInterestOnly()
+	{
+		return finder.isInterestOnly();
+	}
+
+	/** maps to BCP_REPO_TRADE.is_gscc_netted **/
+	public static IntegerAttribute<BcpRepoTrade> isGsccNetted()
+	{
+		return finder.isGsccNetted();
+	}
+
+	/** maps to BCP_REPO_TRADE.has_collateral **/
+	public static IntegerAttribute<BcpRepoTrade> hasCollateral()
+	{
+		return finder.hasCollateral();
+	}
+
+	/** maps to BCP_REPO_TRADE.exclusion_type_code **/
+	public static IntegerAttribute<BcpRepoTrade> exclusionTypeCode()
+	{
+		return finder.exclusionTypeCode();
+	}
+
+	/** maps to BCP_REPO_TRADE.from_z **/
+	public static TimestampAttribute<BcpRepoTrade> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BCP_REPO_TRADE.thru_z **/
+	public static TimestampAttribute<BcpRepoTrade> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to BCP_REPO_TRADE.in_z **/
+	public static TimestampAttribute<BcpRepoTrade> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BCP_REPO_TRADE.out_z **/
+	public static TimestampAttribute<BcpRepoTrade> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<BcpRepoTrade> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BcpRepoTrade> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(BcpRepoTrade other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(repoId());
+	}
+
+	public static BcpRepoTradeSingleFinder<BcpRepoTrade, Object, BcpRepoTrade> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			repoId()
+			, companyId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			repoId()
+			, repoId()
+			, companyId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[7];
+		result[0] = repoRate();
+		result[1] = quantity();
+		result[2] = amount();
+		result[3] = marketValue();
+		result[4] = tradeCurrencyRate();
+		result[5] = foreignAmt();
+		result[6] = endAmount();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.bcp.BcpRepoTrade");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
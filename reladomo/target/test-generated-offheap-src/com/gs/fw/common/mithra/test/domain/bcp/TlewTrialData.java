@@ -0,0 +1,7140 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TlewTrialData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 588;
+	boolean isAccountDescriptionNull();
+	String getAccountDescription();
+	void setAccountDescription(String value);
+	void setAccountDescriptionNull();
+	int zGetAccountDescriptionAsInt();
+	boolean isAccountNumberNull();
+	String getAccountNumber();
+	void setAccountNumber(String value);
+	void setAccountNumberNull();
+	int zGetAccountNumberAsInt();
+	boolean isAccountTypeBNull();
+	int getAccountTypeB();
+	void setAccountTypeB(int value);
+	void setAccountTypeBNull();
+	boolean isAccountTypeCNull();
+	String getAccountTypeC();
+	void setAccountTypeC(String value);
+	void setAccountTypeCNull();
+	int zGetAccountTypeCAsInt();
+	boolean isAccrDivNull();
+	double getAccrDiv();
+	void setAccrDiv(double value);
+	void setAccrDivNull();
+	boolean isAcctIdNull();
+	int getAcctId();
+	void setAcctId(int value);
+	void setAcctIdNull();
+	boolean isActiveMtdRecNull();
+	short getActiveMtdRec();
+	void setActiveMtdRec(short value);
+	void setActiveMtdRecNull();
+	boolean isAdjSdResrvUnrealPlNull();
+	double getAdjSdResrvUnrealPl();
+	void setAdjSdResrvUnrealPl(double value);
+	void setAdjSdResrvUnrealPlNull();
+	boolean isAdjTdUnstldFutPlNull();
+	double getAdjTdUnstldFutPl();
+	void setAdjTdUnstldFutPl(double value);
+	void setAdjTdUnstldFutPlNull();
+	boolean isBaseCurrencyNull();
+	String getBaseCurrency();
+	void setBaseCurrency(String value);
+	void setBaseCurrencyNull();
+	int zGetBaseCurrencyAsInt();
+	boolean isBusDateNull();
+	Timestamp getBusDate();
+	void setBusDate(Timestamp value);
+	void setBusDateNull();
+	long zGetBusDateAsLong();
+	boolean isCarryChargeNull();
+	double getCarryCharge();
+	void setCarryCharge(double value);
+	void setCarryChargeNull();
+	boolean isCarryRebateNull();
+	double getCarryRebate();
+	void setCarryRebate(double value);
+	void setCarryRebateNull();
+	boolean isCarryTransferFlagNull();
+	short getCarryTransferFlag();
+	void setCarryTransferFlag(short value);
+	void setCarryTransferFlagNull();
+	boolean isContractualNpvNull();
+	double getContractualNpv();
+	void setContractualNpv(double value);
+	void setContractualNpvNull();
+	boolean isFairValAdjNull();
+	double getFairValAdj();
+	void setFairValAdj(double value);
+	void setFairValAdjNull();
+	boolean isFwdCostBaseNull();
+	double getFwdCostBase();
+	void setFwdCostBase(double value);
+	void setFwdCostBaseNull();
+	boolean isFwdCostGt30BaseNull();
+	double getFwdCostGt30Base();
+	void setFwdCostGt30Base(double value);
+	void setFwdCostGt30BaseNull();
+	boolean isFwdQtyNull();
+	double getFwdQty();
+	void setFwdQty(double value);
+	void setFwdQtyNull();
+	boolean isFwdQtyGt30Null();
+	double getFwdQtyGt30();
+	void setFwdQtyGt30(double value);
+	void setFwdQtyGt30Null();
+	boolean isFxPerStockRecNull();
+	double getFxPerStockRec();
+	void setFxPerStockRec(double value);
+	void setFxPerStockRecNull();
+	boolean isFxRevalAdjNull();
+	double getFxRevalAdj();
+	void setFxRevalAdj(double value);
+	void setFxRevalAdjNull();
+	boolean isGaapTdMktvlBaseNull();
+	double getGaapTdMktvlBase();
+	void setGaapTdMktvlBase(double value);
+	void setGaapTdMktvlBaseNull();
+	boolean isGmiUnrealNull();
+	double getGmiUnreal();
+	void setGmiUnreal(double value);
+	void setGmiUnrealNull();
+	boolean isInstrumentNull();
+	int getInstrument();
+	void setInstrument(int value);
+	void setInstrumentNull();
+	boolean isInstrumentSubTypeNull();
+	String getInstrumentSubType();
+	void setInstrumentSubType(String value);
+	void setInstrumentSubTypeNull();
+	int zGetInstrumentSubTypeAsInt();
+	boolean isInstrumentTypeNull();
+	String getInstrumentType();
+	void setInstrumentType(String value);
+	void setInstrumentTypeNull();
+	int zGetInstrumentTypeAsInt();
+	boolean isLegalEntityNull();
+	int getLegalEntity();
+	void setLegalEntity(int value);
+	void setLegalEntityNull();
+	boolean isLocalCurrTimeNull();
+	Timestamp getLocalCurrTime();
+	void setLocalCurrTime(Timestamp value);
+	void setLocalCurrTimeNull();
+	long zGetLocalCurrTimeAsLong();
+	boolean isLtdLcmTdUnrealNull();
+	double getLtdLcmTdUnreal();
+	void setLtdLcmTdUnreal(double value);
+	void setLtdLcmTdUnrealNull();
+	boolean isLtdSdUnrealNull();
+	double getLtdSdUnreal();
+	void setLtdSdUnreal(double value);
+	void setLtdSdUnrealNull();
+	boolean isMtdDivIncmNull();
+	double getMtdDivIncm();
+	void setMtdDivIncm(double value);
+	void setMtdDivIncmNull();
+	boolean isMtdIntIncmNull();
+	double getMtdIntIncm();
+	void setMtdIntIncm(double value);
+	void setMtdIntIncmNull();
+	boolean isMtdIntXpnsNull();
+	double getMtdIntXpns();
+	void setMtdIntXpns(double value);
+	void setMtdIntXpnsNull();
+	boolean isMtdLcmTdUnrealNull();
+	double getMtdLcmTdUnreal();
+	void setMtdLcmTdUnreal(double value);
+	void setMtdLcmTdUnrealNull();
+	boolean isMtdRealTradingPlNull();
+	double getMtdRealTradingPl();
+	void setMtdRealTradingPl(double value);
+	void setMtdRealTradingPlNull();
+	boolean isMtdSdUnrealNull();
+	double getMtdSdUnreal();
+	void setMtdSdUnreal(double value);
+	void setMtdSdUnrealNull();
+	boolean isMtdTdUnrealNull();
+	double getMtdTdUnreal();
+	void setMtdTdUnreal(double value);
+	void setMtdTdUnrealNull();
+	boolean isMtdTransferTaxNull();
+	double getMtdTransferTax();
+	void setMtdTransferTax(double value);
+	void setMtdTransferTaxNull();
+	boolean isOffsetPayRecvNull();
+	double getOffsetPayRecv();
+	void setOffsetPayRecv(double value);
+	void setOffsetPayRecvNull();
+	boolean isOpenIntBaseNull();
+	double getOpenIntBase();
+	void setOpenIntBase(double value);
+	void setOpenIntBaseNull();
+	boolean isOtherAdjCntrlTotNull();
+	double getOtherAdjCntrlTot();
+	void setOtherAdjCntrlTot(double value);
+	void setOtherAdjCntrlTotNull();
+	boolean isOtherTdAdjNull();
+	double getOtherTdAdj();
+	void setOtherTdAdj(double value);
+	void setOtherTdAdjNull();
+	boolean isParaProdTypeNull();
+	String getParaProdType();
+	void setParaProdType(String value);
+	void setParaProdTypeNull();
+	int zGetParaProdTypeAsInt();
+	boolean isPendingCashNull();
+	double getPendingCash();
+	void setPendingCash(double value);
+	void setPendingCashNull();
+	boolean isPmeTotUnrealPlNull();
+	double getPmeTotUnrealPl();
+	void setPmeTotUnrealPl(double value);
+	void setPmeTotUnrealPlNull();
+	boolean isPosAccrIntBaseNull();
+	double getPosAccrIntBase();
+	void setPosAccrIntBase(double value);
+	void setPosAccrIntBaseNull();
+	boolean isPosCostBaseNull();
+	double getPosCostBase();
+	void setPosCostBase(double value);
+	void setPosCostBaseNull();
+	boolean isPosMktvlBaseNull();
+	double getPosMktvlBase();
+	void setPosMktvlBase(double value);
+	void setPosMktvlBaseNull();
+	boolean isPosNotvlBaseNull();
+	double getPosNotvlBase();
+	void setPosNotvlBase(double value);
+	void setPosNotvlBaseNull();
+	boolean isPosPurchIntBaseNull();
+	double getPosPurchIntBase();
+	void setPosPurchIntBase(double value);
+	void setPosPurchIntBaseNull();
+	boolean isPosXrateNull();
+	double getPosXrate();
+	void setPosXrate(double value);
+	void setPosXrateNull();
+	boolean isPositionQuantityNull();
+	double getPositionQuantity();
+	void setPositionQuantity(double value);
+	void setPositionQuantityNull();
+	boolean isPositionTypeNull();
+	String getPositionType();
+	void setPositionType(String value);
+	void setPositionTypeNull();
+	int zGetPositionTypeAsInt();
+	boolean isPrimaryIncomeFunctionNull();
+	String getPrimaryIncomeFunction();
+	void setPrimaryIncomeFunction(String value);
+	void setPrimaryIncomeFunctionNull();
+	int zGetPrimaryIncomeFunctionAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isProdFutCntrctSizeNull();
+	double getProdFutCntrctSize();
+	void setProdFutCntrctSize(double value);
+	void setProdFutCntrctSizeNull();
+	boolean isProdGlobalClassNull();
+	long getProdGlobalClass();
+	void setProdGlobalClass(long value);
+	void setProdGlobalClassNull();
+	boolean isProdRelHostNull();
+	double getProdRelHost();
+	void setProdRelHost(double value);
+	void setProdRelHostNull();
+	boolean isProdScrpBsPostClassNull();
+	String getProdScrpBsPostClass();
+	void setProdScrpBsPostClass(String value);
+	void setProdScrpBsPostClassNull();
+	int zGetProdScrpBsPostClassAsInt();
+	boolean isProdScrpPlPostClassNull();
+	String getProdScrpPlPostClass();
+	void setProdScrpPlPostClass(String value);
+	void setProdScrpPlPostClassNull();
+	int zGetProdScrpPlPostClassAsInt();
+	boolean isProdStkPxNull();
+	double getProdStkPx();
+	void setProdStkPx(double value);
+	void setProdStkPxNull();
+	boolean isProdSynNull();
+	String getProdSyn();
+	void setProdSyn(String value);
+	void setProdSynNull();
+	int zGetProdSynAsInt();
+	boolean isProdTypeNull();
+	String getProdType();
+	void setProdType(String value);
+	void setProdTypeNull();
+	int zGetProdTypeAsInt();
+	boolean isProdUndrClassNull();
+	int getProdUndrClass();
+	void setProdUndrClass(int value);
+	void setProdUndrClassNull();
+	boolean isProdUndrlrPxNull();
+	double getProdUndrlrPx();
+	void setProdUndrlrPx(double value);
+	void setProdUndrlrPxNull();
+	boolean isProdXplRltnNull();
+	String getProdXplRltn();
+	void setProdXplRltn(String value);
+	void setProdXplRltnNull();
+	int zGetProdXplRltnAsInt();
+	boolean isProductDescriptionNull();
+	String getProductDescription();
+	void setProductDescription(String value);
+	void setProductDescriptionNull();
+	int zGetProductDescriptionAsInt();
+	boolean isProductIssueCountryNull();
+	String getProductIssueCountry();
+	void setProductIssueCountry(String value);
+	void setProductIssueCountryNull();
+	int zGetProductIssueCountryAsInt();
+	boolean isProductIssueCurrencyNull();
+	String getProductIssueCurrency();
+	void setProductIssueCurrency(String value);
+	void setProductIssueCurrencyNull();
+	int zGetProductIssueCurrencyAsInt();
+	boolean isProductMaturityDateNull();
+	Timestamp getProductMaturityDate();
+	void setProductMaturityDate(Timestamp value);
+	void setProductMaturityDateNull();
+	long zGetProductMaturityDateAsLong();
+	boolean isProductPrimaryMarketNull();
+	String getProductPrimaryMarket();
+	void setProductPrimaryMarket(String value);
+	void setProductPrimaryMarketNull();
+	int zGetProductPrimaryMarketAsInt();
+	boolean isProductProfileNull();
+	String getProductProfile();
+	void setProductProfile(String value);
+	void setProductProfileNull();
+	int zGetProductProfileAsInt();
+	boolean isProductUnderlierReferenceIdNull();
+	int getProductUnderlierReferenceId();
+	void setProductUnderlierReferenceId(int value);
+	void setProductUnderlierReferenceIdNull();
+	boolean isRegCostBaseNull();
+	double getRegCostBase();
+	void setRegCostBase(double value);
+	void setRegCostBaseNull();
+	boolean isRegQtyNull();
+	double getRegQty();
+	void setRegQty(double value);
+	void setRegQtyNull();
+	boolean isSdFxUnrealPlNull();
+	double getSdFxUnrealPl();
+	void setSdFxUnrealPl(double value);
+	void setSdFxUnrealPlNull();
+	boolean isSegregatedCashNull();
+	double getSegregatedCash();
+	void setSegregatedCash(double value);
+	void setSegregatedCashNull();
+	boolean isSettledCashNull();
+	double getSettledCash();
+	void setSettledCash(double value);
+	void setSettledCashNull();
+	boolean isTlewTrialChangeNull();
+	short getTlewTrialChange();
+	void setTlewTrialChange(short value);
+	void setTlewTrialChangeNull();
+	boolean isTlewTrialCreateNull();
+	short getTlewTrialCreate();
+	void setTlewTrialCreate(short value);
+	void setTlewTrialCreateNull();
+	boolean isTotUnrealPlNull();
+	double getTotUnrealPl();
+	void setTotUnrealPl(double value);
+	void setTotUnrealPlNull();
+	boolean isTrialNull();
+	String getTrial();
+	void setTrial(String value);
+	void setTrialNull();
+	int zGetTrialAsInt();
+	boolean isUnrealFutPerGmiPlNull();
+	double getUnrealFutPerGmiPl();
+	void setUnrealFutPerGmiPl(double value);
+	void setUnrealFutPerGmiPlNull();
+	boolean isUnstldFwdPlNull();
+	double getUnstldFwdPl();
+	void setUnstldFwdPl(double value);
+	void setUnstldFwdPlNull();
+	boolean isUnstldRwPlNull();
+	double getUnstldRwPl();
+	void setUnstldRwPl(double value);
+	void setUnstldRwPlNull();
+	boolean isValuationAdjNull();
+	double getValuationAdj();
+	void setValuationAdj(double value);
+	void setValuationAdjNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TlewTrialDataOnHeap implements TlewTrialData
+	{
+		private byte _dataVersion;
+		private long isNullBits0 = 0;
+		private String accountDescription;
+		private String accountNumber;
+		private int accountTypeB;
+		private String accountTypeC;
+		private double accrDiv;
+		private int acctId;
+		private short activeMtdRec;
+		private double adjSdResrvUnrealPl;
+		private double adjTdUnstldFutPl;
+		private String baseCurrency;
+		private Timestamp busDate;
+		private double carryCharge;
+		private double carryRebate;
+		private short carryTransferFlag;
+		private double contractualNpv;
+		private double fairValAdj;
+		private double fwdCostBase;
+		private double fwdCostGt30Base;
+		private double fwdQty;
+		private double fwdQtyGt30;
+		private double fxPerStockRec;
+		private double fxRevalAdj;
+		private double gaapTdMktvlBase;
+		private double gmiUnreal;
+		private int instrument;
+		private String instrumentSubType;
+		private String instrumentType;
+		private int legalEntity;
+		private Timestamp localCurrTime;
+		private double ltdLcmTdUnreal;
+		private double ltdSdUnreal;
+		private double mtdDivIncm;
+		private double mtdIntIncm;
+		private double mtdIntXpns;
+		private double mtdLcmTdUnreal;
+		private double mtdRealTradingPl;
+		private double mtdSdUnreal;
+		private double mtdTdUnreal;
+		private double mtdTransferTax;
+		private double offsetPayRecv;
+		private double openIntBase;
+		private double otherAdjCntrlTot;
+		private double otherTdAdj;
+		private String paraProdType;
+		private double pendingCash;
+		private double pmeTotUnrealPl;
+		private double posAccrIntBase;
+		private double posCostBase;
+		private double posMktvlBase;
+		private double posNotvlBase;
+		private double posPurchIntBase;
+		private double posXrate;
+		private double positionQuantity;
+		private String positionType;
+		private String primaryIncomeFunction;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private double prodFutCntrctSize;
+		private long prodGlobalClass;
+		private double prodRelHost;
+		private String prodScrpBsPostClass;
+		private String prodScrpPlPostClass;
+		private double prodStkPx;
+		private String prodSyn;
+		private String prodType;
+		private int prodUndrClass;
+		private double prodUndrlrPx;
+		private String prodXplRltn;
+		private String productDescription;
+		private String productIssueCountry;
+		private String productIssueCurrency;
+		private Timestamp productMaturityDate;
+		private String productPrimaryMarket;
+		private String productProfile;
+		private int productUnderlierReferenceId;
+		private double regCostBase;
+		private double regQty;
+		private double sdFxUnrealPl;
+		private double segregatedCash;
+		private double settledCash;
+		private short tlewTrialChange;
+		private short tlewTrialCreate;
+		private double totUnrealPl;
+		private String trial;
+		private double unrealFutPerGmiPl;
+		private double unstldFwdPl;
+		private double unstldRwPl;
+		private double valuationAdj;
+		public boolean isAccountDescriptionNull()
+		{
+			return this.getAccountDescription() == null;
+		}
+
+		public boolean isAccountNumberNull()
+		{
+			return this.getAccountNumber() == null;
+		}
+
+		public boolean isAccountTypeBNull()
+		{
+			return false;
+		}
+
+		public boolean isAccountTypeCNull()
+		{
+			return this.getAccountTypeC() == null;
+		}
+
+		public boolean isAcctIdNull()
+		{
+			return false;
+		}
+
+		public boolean isActiveMtdRecNull()
+		{
+			return false;
+		}
+
+		public boolean isBaseCurrencyNull()
+		{
+			return this.getBaseCurrency() == null;
+		}
+
+		public boolean isBusDateNull()
+		{
+			return this.getBusDate() == null;
+		}
+
+		public boolean isCarryChargeNull()
+		{
+			return false;
+		}
+
+		public boolean isCarryRebateNull()
+		{
+			return false;
+		}
+
+		public boolean isCarryTransferFlagNull()
+		{
+			return false;
+		}
+
+		public boolean isInstrumentNull()
+		{
+			return false;
+		}
+
+		public boolean isInstrumentSubTypeNull()
+		{
+			return this.getInstrumentSubType() == null;
+		}
+
+		public boolean isInstrumentTypeNull()
+		{
+			return this.getInstrumentType() == null;
+		}
+
+		public boolean isLegalEntityNull()
+		{
+			return false;
+		}
+
+		public boolean isLocalCurrTimeNull()
+		{
+			return this.getLocalCurrTime() == null;
+		}
+
+		public boolean isLtdSdUnrealNull()
+		{
+			return false;
+		}
+
+		public boolean isParaProdTypeNull()
+		{
+			return this.getParaProdType() == null;
+		}
+
+		public boolean isPositionTypeNull()
+		{
+			return this.getPositionType() == null;
+		}
+
+		public boolean isPrimaryIncomeFunctionNull()
+		{
+			return this.getPrimaryIncomeFunction() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isProdGlobalClassNull()
+		{
+			return false;
+		}
+
+		public boolean isProdScrpBsPostClassNull()
+		{
+			return this.getProdScrpBsPostClass() == null;
+		}
+
+		public boolean isProdScrpPlPostClassNull()
+		{
+			return this.getProdScrpPlPostClass() == null;
+		}
+
+		public boolean isProdSynNull()
+		{
+			return this.getProdSyn() == null;
+		}
+
+		public boolean isProdTypeNull()
+		{
+			return this.getProdType() == null;
+		}
+
+		public boolean isProdXplRltnNull()
+		{
+			return this.getProdXplRltn() == null;
+		}
+
+		public boolean isProductDescriptionNull()
+		{
+			return this.getProductDescription() == null;
+		}
+
+		public boolean isProductIssueCountryNull()
+		{
+			return this.getProductIssueCountry() == null;
+		}
+
+		public boolean isProductIssueCurrencyNull()
+		{
+			return this.getProductIssueCurrency() == null;
+		}
+
+		public boolean isProductMaturityDateNull()
+		{
+			return this.getProductMaturityDate() == null;
+		}
+
+		public boolean isProductPrimaryMarketNull()
+		{
+			return this.getProductPrimaryMarket() == null;
+		}
+
+		public boolean isProductProfileNull()
+		{
+			return this.getProductProfile() == null;
+		}
+
+		public boolean isTlewTrialCreateNull()
+		{
+			return false;
+		}
+
+		public boolean isTrialNull()
+		{
+			return this.getTrial() == null;
+		}
+
+		public boolean isProdStkPxNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isProdFutCntrctSizeNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public boolean isProductUnderlierReferenceIdNull()
+		{
+			return (isNullBits0 & 1 << 2) != 0 ;
+		}
+
+		public boolean isProdRelHostNull()
+		{
+			return (isNullBits0 & 1 << 3) != 0 ;
+		}
+
+		public boolean isProdUndrlrPxNull()
+		{
+			return (isNullBits0 & 1 << 4) != 0 ;
+		}
+
+		public boolean isPositionQuantityNull()
+		{
+			return (isNullBits0 & 1 << 5) != 0 ;
+		}
+
+		public boolean isPosMktvlBaseNull()
+		{
+			return (isNullBits0 & 1 << 6) != 0 ;
+		}
+
+		public boolean isPosCostBaseNull()
+		{
+			return (isNullBits0 & 1 << 7) != 0 ;
+		}
+
+		public boolean isPosAccrIntBaseNull()
+		{
+			return (isNullBits0 & 1 << 8) != 0 ;
+		}
+
+		public boolean isPosPurchIntBaseNull()
+		{
+			return (isNullBits0 & 1 << 9) != 0 ;
+		}
+
+		public boolean isPosNotvlBaseNull()
+		{
+			return (isNullBits0 & 1 << 10) != 0 ;
+		}
+
+		public boolean isContractualNpvNull()
+		{
+			return (isNullBits0 & 1 << 11) != 0 ;
+		}
+
+		public boolean isUnstldRwPlNull()
+		{
+			return (isNullBits0 & 1 << 12) != 0 ;
+		}
+
+		public boolean isUnstldFwdPlNull()
+		{
+			return (isNullBits0 & 1 << 13) != 0 ;
+		}
+
+		public boolean isUnrealFutPerGmiPlNull()
+		{
+			return (isNullBits0 & 1 << 14) != 0 ;
+		}
+
+		public boolean isFairValAdjNull()
+		{
+			return (isNullBits0 & 1 << 15) != 0 ;
+		}
+
+		public boolean isAdjTdUnstldFutPlNull()
+		{
+			return (isNullBits0 & 1 << 16) != 0 ;
+		}
+
+		public boolean isValuationAdjNull()
+		{
+			return (isNullBits0 & 1 << 17) != 0 ;
+		}
+
+		public boolean isAccrDivNull()
+		{
+			return (isNullBits0 & 1 << 18) != 0 ;
+		}
+
+		public boolean isOtherTdAdjNull()
+		{
+			return (isNullBits0 & 1 << 19) != 0 ;
+		}
+
+		public boolean isFxRevalAdjNull()
+		{
+			return (isNullBits0 & 1 << 20) != 0 ;
+		}
+
+		public boolean isAdjSdResrvUnrealPlNull()
+		{
+			return (isNullBits0 & 1 << 21) != 0 ;
+		}
+
+		public boolean isSdFxUnrealPlNull()
+		{
+			return (isNullBits0 & 1 << 22) != 0 ;
+		}
+
+		public boolean isTotUnrealPlNull()
+		{
+			return (isNullBits0 & 1 << 23) != 0 ;
+		}
+
+		public boolean isPmeTotUnrealPlNull()
+		{
+			return (isNullBits0 & 1 << 24) != 0 ;
+		}
+
+		public boolean isMtdIntIncmNull()
+		{
+			return (isNullBits0 & 1 << 25) != 0 ;
+		}
+
+		public boolean isMtdIntXpnsNull()
+		{
+			return (isNullBits0 & 1 << 26) != 0 ;
+		}
+
+		public boolean isPendingCashNull()
+		{
+			return (isNullBits0 & 1 << 27) != 0 ;
+		}
+
+		public boolean isMtdRealTradingPlNull()
+		{
+			return (isNullBits0 & 1 << 28) != 0 ;
+		}
+
+		public boolean isOtherAdjCntrlTotNull()
+		{
+			return (isNullBits0 & 1 << 29) != 0 ;
+		}
+
+		public boolean isSettledCashNull()
+		{
+			return (isNullBits0 & 1 << 30) != 0 ;
+		}
+
+		public boolean isFxPerStockRecNull()
+		{
+			return (isNullBits0 & 1L << 31) != 0 ;
+		}
+
+		public boolean isMtdDivIncmNull()
+		{
+			return (isNullBits0 & 1L << 32) != 0 ;
+		}
+
+		public boolean isMtdTransferTaxNull()
+		{
+			return (isNullBits0 & 1L << 33) != 0 ;
+		}
+
+		public boolean isTlewTrialChangeNull()
+		{
+			return (isNullBits0 & 1L << 34) != 0 ;
+		}
+
+		public boolean isOffsetPayRecvNull()
+		{
+			return (isNullBits0 & 1L << 35) != 0 ;
+		}
+
+		public boolean isSegregatedCashNull()
+		{
+			return (isNullBits0 & 1L << 36) != 0 ;
+		}
+
+		public boolean isPosXrateNull()
+		{
+			return (isNullBits0 & 1L << 37) != 0 ;
+		}
+
+		public boolean isRegCostBaseNull()
+		{
+			return (isNullBits0 & 1L << 38) != 0 ;
+		}
+
+		public boolean isFwdCostBaseNull()
+		{
+			return (isNullBits0 & 1L << 39) != 0 ;
+		}
+
+		public boolean isRegQtyNull()
+		{
+			return (isNullBits0 & 1L << 40) != 0 ;
+		}
+
+		public boolean isFwdQtyNull()
+		{
+			return (isNullBits0 & 1L << 41) != 0 ;
+		}
+
+		public boolean isGaapTdMktvlBaseNull()
+		{
+			return (isNullBits0 & 1L << 42) != 0 ;
+		}
+
+		public boolean isOpenIntBaseNull()
+		{
+			return (isNullBits0 & 1L << 43) != 0 ;
+		}
+
+		public boolean isMtdSdUnrealNull()
+		{
+			return (isNullBits0 & 1L << 44) != 0 ;
+		}
+
+		public boolean isFwdQtyGt30Null()
+		{
+			return (isNullBits0 & 1L << 45) != 0 ;
+		}
+
+		public boolean isFwdCostGt30BaseNull()
+		{
+			return (isNullBits0 & 1L << 46) != 0 ;
+		}
+
+		public boolean isProdUndrClassNull()
+		{
+			return (isNullBits0 & 1L << 47) != 0 ;
+		}
+
+		public boolean isGmiUnrealNull()
+		{
+			return (isNullBits0 & 1L << 48) != 0 ;
+		}
+
+		public boolean isMtdTdUnrealNull()
+		{
+			return (isNullBits0 & 1L << 49) != 0 ;
+		}
+
+		public boolean isLtdLcmTdUnrealNull()
+		{
+			return (isNullBits0 & 1L << 50) != 0 ;
+		}
+
+		public boolean isMtdLcmTdUnrealNull()
+		{
+			return (isNullBits0 & 1L << 51) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.accountDescription);
+			out.writeObject(this.accountNumber);
+			out.writeInt(this.accountTypeB);
+			out.writeObject(this.accountTypeC);
+			out.writeDouble(this.accrDiv);
+			out.writeInt(this.acctId);
+			out.writeShort(this.activeMtdRec);
+			out.writeDouble(this.adjSdResrvUnrealPl);
+			out.writeDouble(this.adjTdUnstldFutPl);
+			out.writeObject(this.baseCurrency);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.busDate);
+			out.writeDouble(this.carryCharge);
+			out.writeDouble(this.carryRebate);
+			out.writeShort(this.carryTransferFlag);
+			out.writeDouble(this.contractualNpv);
+			out.writeDouble(this.fairValAdj);
+			out.writeDouble(this.fwdCostBase);
+			out.writeDouble(this.fwdCostGt30Base);
+			out.writeDouble(this.fwdQty);
+			out.writeDouble(this.fwdQtyGt30);
+			out.writeDouble(this.fxPerStockRec);
+			out.writeDouble(this.fxRevalAdj);
+			out.writeDouble(this.gaapTdMktvlBase);
+			out.writeDouble(this.gmiUnreal);
+			out.writeInt(this.instrument);
+			out.writeObject(this.instrumentSubType);
+			out.writeObject(this.instrumentType);
+			out.writeInt(this.legalEntity);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.localCurrTime);
+			out.writeDouble(this.ltdLcmTdUnreal);
+			out.writeDouble(this.ltdSdUnreal);
+			out.writeDouble(this.mtdDivIncm);
+			out.writeDouble(this.mtdIntIncm);
+			out.writeDouble(this.mtdIntXpns);
+			out.writeDouble(this.mtdLcmTdUnreal);
+			out.writeDouble(this.mtdRealTradingPl);
+			out.writeDouble(this.mtdSdUnreal);
+			out.writeDouble(this.mtdTdUnreal);
+			out.writeDouble(this.mtdTransferTax);
+			out.writeDouble(this.offsetPayRecv);
+			out.writeDouble(this.openIntBase);
+			out.writeDouble(this.otherAdjCntrlTot);
+			out.writeDouble(this.otherTdAdj);
+			out.writeObject(this.paraProdType);
+			out.writeDouble(this.pendingCash);
+			out.writeDouble(this.pmeTotUnrealPl);
+			out.writeDouble(this.posAccrIntBase);
+			out.writeDouble(this.posCostBase);
+			out.writeDouble(this.posMktvlBase);
+			out.writeDouble(this.posNotvlBase);
+			out.writeDouble(this.posPurchIntBase);
+			out.writeDouble(this.posXrate);
+			out.writeDouble(this.positionQuantity);
+			out.writeObject(this.positionType);
+			out.writeObject(this.primaryIncomeFunction);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TlewTrialFinder.processingDate().getInfinityDate());
+			out.writeDouble(this.prodFutCntrctSize);
+			out.writeLong(this.prodGlobalClass);
+			out.writeDouble(this.prodRelHost);
+			out.writeObject(this.prodScrpBsPostClass);
+			out.writeObject(this.prodScrpPlPostClass);
+			out.writeDouble(this.prodStkPx);
+			out.writeObject(this.prodSyn);
+			out.writeObject(this.prodType);
+			out.writeInt(this.prodUndrClass);
+			out.writeDouble(this.prodUndrlrPx);
+			out.writeObject(this.prodXplRltn);
+			out.writeObject(this.productDescription);
+			out.writeObject(this.productIssueCountry);
+			out.writeObject(this.productIssueCurrency);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.productMaturityDate);
+			out.writeObject(this.productPrimaryMarket);
+			out.writeObject(this.productProfile);
+			out.writeInt(this.productUnderlierReferenceId);
+			out.writeDouble(this.regCostBase);
+			out.writeDouble(this.regQty);
+			out.writeDouble(this.sdFxUnrealPl);
+			out.writeDouble(this.segregatedCash);
+			out.writeDouble(this.settledCash);
+			out.writeShort(this.tlewTrialChange);
+			out.writeShort(this.tlewTrialCreate);
+			out.writeDouble(this.totUnrealPl);
+			out.writeObject(this.trial);
+			out.writeDouble(this.unrealFutPerGmiPl);
+			out.writeDouble(this.unstldFwdPl);
+			out.writeDouble(this.unstldRwPl);
+			out.writeDouble(this.valuationAdj);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeLong(this.isNullBits0);
+		}
+
+		public String getAccountDescription()
+		{
+			return this.accountDescription;
+		}
+
+		public int zGetAccountDescriptionAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountDescription);
+		}
+
+		public void setAccountDescription(String value)
+		{
+			this.accountDescription = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setAccountDescriptionNull()
+		{
+			this.setAccountDescription(null);
+		}
+
+		public String getAccountNumber()
+		{
+			return this.accountNumber;
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountNumber);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public int getAccountTypeB()
+		{
+			return this.accountTypeB;
+		}
+
+		public void setAccountTypeB(int value)
+		{
+			this.accountTypeB = value;
+		}
+
+		public void setAccountTypeBNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getAccountTypeC()
+		{
+			return this.accountTypeC;
+		}
+
+		public int zGetAccountTypeCAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountTypeC);
+		}
+
+		public void setAccountTypeC(String value)
+		{
+			this.accountTypeC = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setAccountTypeCNull()
+		{
+			this.setAccountTypeC(null);
+		}
+
+		public double getAccrDiv()
+		{
+			return this.accrDiv;
+		}
+
+		public void setAccrDiv(double value)
+		{
+			this.accrDiv = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 18);
+		}
+
+		public int getAcctId()
+		{
+			return this.acctId;
+		}
+
+		public void setAcctId(int value)
+		{
+			this.acctId = value;
+		}
+
+		public void setAcctIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public short getActiveMtdRec()
+		{
+			return this.activeMtdRec;
+		}
+
+		public void setActiveMtdRec(short value)
+		{
+			this.activeMtdRec = value;
+		}
+
+		public void setActiveMtdRecNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getAdjSdResrvUnrealPl()
+		{
+			return this.adjSdResrvUnrealPl;
+		}
+
+		public void setAdjSdResrvUnrealPl(double value)
+		{
+			this.adjSdResrvUnrealPl = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 21);
+		}
+
+		public double getAdjTdUnstldFutPl()
+		{
+			return this.adjTdUnstldFutPl;
+		}
+
+		public void setAdjTdUnstldFutPl(double value)
+		{
+			this.adjTdUnstldFutPl = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 16);
+		}
+
+		public String getBaseCurrency()
+		{
+			return this.baseCurrency;
+		}
+
+		public int zGetBaseCurrencyAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(baseCurrency);
+		}
+
+		public void setBaseCurrency(String value)
+		{
+			this.baseCurrency = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setBaseCurrencyNull()
+		{
+			this.setBaseCurrency(null);
+		}
+
+		public Timestamp getBusDate()
+		{
+			return this.busDate;
+		}
+
+		public long zGetBusDateAsLong()
+		{
+			if (busDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return busDate.getTime();
+		}
+
+		public void setBusDate(Timestamp value)
+		{
+			this.busDate = TimestampPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+		}
+
+		public void setBusDateNull()
+		{
+			this.setBusDate(null);
+		}
+
+		public double getCarryCharge()
+		{
+			return this.carryCharge;
+		}
+
+		public void setCarryCharge(double value)
+		{
+			this.carryCharge = value;
+		}
+
+		public void setCarryChargeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getCarryRebate()
+		{
+			return this.carryRebate;
+		}
+
+		public void setCarryRebate(double value)
+		{
+			this.carryRebate = value;
+		}
+
+		public void setCarryRebateNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public short getCarryTransferFlag()
+		{
+			return this.carryTransferFlag;
+		}
+
+		public void setCarryTransferFlag(short value)
+		{
+			this.carryTransferFlag = value;
+		}
+
+		public void setCarryTransferFlagNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getContractualNpv()
+		{
+			return this.contractualNpv;
+		}
+
+		public void setContractualNpv(double value)
+		{
+			this.contractualNpv = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 11);
+		}
+
+		public double getFairValAdj()
+		{
+			return this.fairValAdj;
+		}
+
+		public void setFairValAdj(double value)
+		{
+			this.fairValAdj = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 15);
+		}
+
+		public double getFwdCostBase()
+		{
+			return this.fwdCostBase;
+		}
+
+		public void setFwdCostBase(double value)
+		{
+			this.fwdCostBase = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 39);
+		}
+
+		public double getFwdCostGt30Base()
+		{
+			return this.fwdCostGt30Base;
+		}
+
+		public void setFwdCostGt30Base(double value)
+		{
+			this.fwdCostGt30Base = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 46);
+		}
+
+		public double getFwdQty()
+		{
+			return this.fwdQty;
+		}
+
+		public void setFwdQty(double value)
+		{
+			this.fwdQty = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 41);
+		}
+
+		public double getFwdQtyGt30()
+		{
+			return this.fwdQtyGt30;
+		}
+
+		public void setFwdQtyGt30(double value)
+		{
+			this.fwdQtyGt30 = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 45);
+		}
+
+		public double getFxPerStockRec()
+		{
+			return this.fxPerStockRec;
+		}
+
+		public void setFxPerStockRec(double value)
+		{
+			this.fxPerStockRec = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 31);
+		}
+
+		public double getFxRevalAdj()
+		{
+			return this.fxRevalAdj;
+		}
+
+		public void setFxRevalAdj(double value)
+		{
+			this.fxRevalAdj = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 20);
+		}
+
+		public double getGaapTdMktvlBase()
+		{
+			return this.gaapTdMktvlBase;
+		}
+
+		public void setGaapTdMktvlBase(double value)
+		{
+			this.gaapTdMktvlBase = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 42);
+		}
+
+		public double getGmiUnreal()
+		{
+			return this.gmiUnreal;
+		}
+
+		public void setGmiUnreal(double value)
+		{
+			this.gmiUnreal = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 48);
+		}
+
+		public int getInstrument()
+		{
+			return this.instrument;
+		}
+
+		public void setInstrument(int value)
+		{
+			this.instrument = value;
+		}
+
+		public void setInstrumentNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getInstrumentSubType()
+		{
+			return this.instrumentSubType;
+		}
+
+		public int zGetInstrumentSubTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(instrumentSubType);
+		}
+
+		public void setInstrumentSubType(String value)
+		{
+			this.instrumentSubType = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setInstrumentSubTypeNull()
+		{
+			this.setInstrumentSubType(null);
+		}
+
+		public String getInstrumentType()
+		{
+			return this.instrumentType;
+		}
+
+		public int zGetInstrumentTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(instrumentType);
+		}
+
+		public void setInstrumentType(String value)
+		{
+			this.instrumentType = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setInstrumentTypeNull()
+		{
+			this.setInstrumentType(null);
+		}
+
+		public int getLegalEntity()
+		{
+			return this.legalEntity;
+		}
+
+		public void setLegalEntity(int value)
+		{
+			this.legalEntity = value;
+		}
+
+		public void setLegalEntityNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getLocalCurrTime()
+		{
+			return this.localCurrTime;
+		}
+
+		public long zGetLocalCurrTimeAsLong()
+		{
+			if (localCurrTime == null) return TimestampPool.OFF_HEAP_NULL;
+			return localCurrTime.getTime();
+		}
+
+		public void setLocalCurrTime(Timestamp value)
+		{
+			this.localCurrTime = TimestampPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+		}
+
+		public void setLocalCurrTimeNull()
+		{
+			this.setLocalCurrTime(null);
+		}
+
+		public double getLtdLcmTdUnreal()
+		{
+			return this.ltdLcmTdUnreal;
+		}
+
+		public void setLtdLcmTdUnreal(double value)
+		{
+			this.ltdLcmTdUnreal = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 50);
+		}
+
+		public double getLtdSdUnreal()
+		{
+			return this.ltdSdUnreal;
+		}
+
+		public void setLtdSdUnreal(double value)
+		{
+			this.ltdSdUnreal = value;
+		}
+
+		public void setLtdSdUnrealNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getMtdDivIncm()
+		{
+			return this.mtdDivIncm;
+		}
+
+		public void setMtdDivIncm(double value)
+		{
+			this.mtdDivIncm = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 32);
+		}
+
+		public double getMtdIntIncm()
+		{
+			return this.mtdIntIncm;
+		}
+
+		public void setMtdIntIncm(double value)
+		{
+			this.mtdIntIncm = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 25);
+		}
+
+		public double getMtdIntXpns()
+		{
+			return this.mtdIntXpns;
+		}
+
+		public void setMtdIntXpns(double value)
+		{
+			this.mtdIntXpns = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 26);
+		}
+
+		public double getMtdLcmTdUnreal()
+		{
+			return this.mtdLcmTdUnreal;
+		}
+
+		public void setMtdLcmTdUnreal(double value)
+		{
+			this.mtdLcmTdUnreal = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 51);
+		}
+
+		public double getMtdRealTradingPl()
+		{
+			return this.mtdRealTradingPl;
+		}
+
+		public void setMtdRealTradingPl(double value)
+		{
+			this.mtdRealTradingPl = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 28);
+		}
+
+		public double getMtdSdUnreal()
+		{
+			return this.mtdSdUnreal;
+		}
+
+		public void setMtdSdUnreal(double value)
+		{
+			this.mtdSdUnreal = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 44);
+		}
+
+		public double getMtdTdUnreal()
+		{
+			return this.mtdTdUnreal;
+		}
+
+		public void setMtdTdUnreal(double value)
+		{
+			this.mtdTdUnreal = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 49);
+		}
+
+		public double getMtdTransferTax()
+		{
+			return this.mtdTransferTax;
+		}
+
+		public void setMtdTransferTax(double value)
+		{
+			this.mtdTransferTax = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 33);
+		}
+
+		public double getOffsetPayRecv()
+		{
+			return this.offsetPayRecv;
+		}
+
+		public void setOffsetPayRecv(double value)
+		{
+			this.offsetPayRecv = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 35);
+		}
+
+		public double getOpenIntBase()
+		{
+			return this.openIntBase;
+		}
+
+		public void setOpenIntBase(double value)
+		{
+			this.openIntBase = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 43);
+		}
+
+		public double getOtherAdjCntrlTot()
+		{
+			return this.otherAdjCntrlTot;
+		}
+
+		public void setOtherAdjCntrlTot(double value)
+		{
+			this.otherAdjCntrlTot = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 29);
+		}
+
+		public double getOtherTdAdj()
+		{
+			return this.otherTdAdj;
+		}
+
+		public void setOtherTdAdj(double value)
+		{
+			this.otherTdAdj = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 19);
+		}
+
+		public String getParaProdType()
+		{
+			return this.paraProdType;
+		}
+
+		public int zGetParaProdTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(paraProdType);
+		}
+
+		public void setParaProdType(String value)
+		{
+			this.paraProdType = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setParaProdTypeNull()
+		{
+			this.setParaProdType(null);
+		}
+
+		public double getPendingCash()
+		{
+			return this.pendingCash;
+		}
+
+		public void setPendingCash(double value)
+		{
+			this.pendingCash = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 27);
+		}
+
+		public double getPmeTotUnrealPl()
+		{
+			return this.pmeTotUnrealPl;
+		}
+
+		public void setPmeTotUnrealPl(double value)
+		{
+			this.pmeTotUnrealPl = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 24);
+		}
+
+		public double getPosAccrIntBase()
+		{
+			return this.posAccrIntBase;
+		}
+
+		public void setPosAccrIntBase(double value)
+		{
+			this.posAccrIntBase = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 8);
+		}
+
+		public double getPosCostBase()
+		{
+			return this.posCostBase;
+		}
+
+		public void setPosCostBase(double value)
+		{
+			this.posCostBase = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 7);
+		}
+
+		public double getPosMktvlBase()
+		{
+			return this.posMktvlBase;
+		}
+
+		public void setPosMktvlBase(double value)
+		{
+			this.posMktvlBase = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 6);
+		}
+
+		public double getPosNotvlBase()
+		{
+			return this.posNotvlBase;
+		}
+
+		public void setPosNotvlBase(double value)
+		{
+			this.posNotvlBase = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 10);
+		}
+
+		public double getPosPurchIntBase()
+		{
+			return this.posPurchIntBase;
+		}
+
+		public void setPosPurchIntBase(double value)
+		{
+			this.posPurchIntBase = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 9);
+		}
+
+		public double getPosXrate()
+		{
+			return this.posXrate;
+		}
+
+		public void setPosXrate(double value)
+		{
+			this.posXrate = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 37);
+		}
+
+		public double getPositionQuantity()
+		{
+			return this.positionQuantity;
+		}
+
+		public void setPositionQuantity(double value)
+		{
+			this.positionQuantity = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 5);
+		}
+
+		public String getPositionType()
+		{
+			return this.positionType;
+		}
+
+		public int zGetPositionTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(positionType);
+		}
+
+		public void setPositionType(String value)
+		{
+			this.positionType = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setPositionTypeNull()
+		{
+			this.setPositionType(null);
+		}
+
+		public String getPrimaryIncomeFunction()
+		{
+			return this.primaryIncomeFunction;
+		}
+
+		public int zGetPrimaryIncomeFunctionAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(primaryIncomeFunction);
+		}
+
+		public void setPrimaryIncomeFunction(String value)
+		{
+			this.primaryIncomeFunction = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setPrimaryIncomeFunctionNull()
+		{
+			this.setPrimaryIncomeFunction(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getProdFutCntrctSize()
+		{
+			return this.prodFutCntrctSize;
+		}
+
+		public void setProdFutCntrctSize(double value)
+		{
+			this.prodFutCntrctSize = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 1);
+		}
+
+		public long getProdGlobalClass()
+		{
+			return this.prodGlobalClass;
+		}
+
+		public void setProdGlobalClass(long value)
+		{
+			this.prodGlobalClass = value;
+		}
+
+		public void setProdGlobalClassNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getProdRelHost()
+		{
+			return this.prodRelHost;
+		}
+
+		public void setProdRelHost(double value)
+		{
+			this.prodRelHost = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 3);
+		}
+
+		public String getProdScrpBsPostClass()
+		{
+			return this.prodScrpBsPostClass;
+		}
+
+		public int zGetProdScrpBsPostClassAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(prodScrpBsPostClass);
+		}
+
+		public void setProdScrpBsPostClass(String value)
+		{
+			this.prodScrpBsPostClass = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProdScrpBsPostClassNull()
+		{
+			this.setProdScrpBsPostClass(null);
+		}
+
+		public String getProdScrpPlPostClass()
+		{
+			return this.prodScrpPlPostClass;
+		}
+
+		public int zGetProdScrpPlPostClassAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(prodScrpPlPostClass);
+		}
+
+		public void setProdScrpPlPostClass(String value)
+		{
+			this.prodScrpPlPostClass = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProdScrpPlPostClassNull()
+		{
+			this.setProdScrpPlPostClass(null);
+		}
+
+		public double getProdStkPx()
+		{
+			return this.prodStkPx;
+		}
+
+		public void setProdStkPx(double value)
+		{
+			this.prodStkPx = value;
+			isNullBits0 = isNullBits0 & ~( 1);
+		}
+
+		public String getProdSyn()
+		{
+			return this.prodSyn;
+		}
+
+		public int zGetProdSynAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(prodSyn);
+		}
+
+		public void setProdSyn(String value)
+		{
+			this.prodSyn = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProdSynNull()
+		{
+			this.setProdSyn(null);
+		}
+
+		public String getProdType()
+		{
+			return this.prodType;
+		}
+
+		public int zGetProdTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(prodType);
+		}
+
+		public void setProdType(String value)
+		{
+			this.prodType = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProdTypeNull()
+		{
+			this.setProdType(null);
+		}
+
+		public int getProdUndrClass()
+		{
+			return this.prodUndrClass;
+		}
+
+		public void setProdUndrClass(int value)
+		{
+			this.prodUndrClass = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 47);
+		}
+
+		public double getProdUndrlrPx()
+		{
+			return this.prodUndrlrPx;
+		}
+
+		public void setProdUndrlrPx(double value)
+		{
+			this.prodUndrlrPx = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 4);
+		}
+
+		public String getProdXplRltn()
+		{
+			return this.prodXplRltn;
+		}
+
+		public int zGetProdXplRltnAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(prodXplRltn);
+		}
+
+		public void setProdXplRltn(String value)
+		{
+			this.prodXplRltn = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProdXplRltnNull()
+		{
+			this.setProdXplRltn(null);
+		}
+
+		public String getProductDescription()
+		{
+			return this.productDescription;
+		}
+
+		public int zGetProductDescriptionAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(productDescription);
+		}
+
+		public void setProductDescription(String value)
+		{
+			this.productDescription = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProductDescriptionNull()
+		{
+			this.setProductDescription(null);
+		}
+
+		public String getProductIssueCountry()
+		{
+			return this.productIssueCountry;
+		}
+
+		public int zGetProductIssueCountryAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(productIssueCountry);
+		}
+
+		public void setProductIssueCountry(String value)
+		{
+			this.productIssueCountry = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProductIssueCountryNull()
+		{
+			this.setProductIssueCountry(null);
+		}
+
+		public String getProductIssueCurrency()
+		{
+			return this.productIssueCurrency;
+		}
+
+		public int zGetProductIssueCurrencyAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(productIssueCurrency);
+		}
+
+		public void setProductIssueCurrency(String value)
+		{
+			this.productIssueCurrency = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProductIssueCurrencyNull()
+		{
+			this.setProductIssueCurrency(null);
+		}
+
+		public Timestamp getProductMaturityDate()
+		{
+			return this.productMaturityDate;
+		}
+
+		public long zGetProductMaturityDateAsLong()
+		{
+			if (productMaturityDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return productMaturityDate.getTime();
+		}
+
+		public void setProductMaturityDate(Timestamp value)
+		{
+			this.productMaturityDate = TimestampPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+		}
+
+		public void setProductMaturityDateNull()
+		{
+			this.setProductMaturityDate(null);
+		}
+
+		public String getProductPrimaryMarket()
+		{
+			return this.productPrimaryMarket;
+		}
+
+		public int zGetProductPrimaryMarketAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(productPrimaryMarket);
+		}
+
+		public void setProductPrimaryMarket(String value)
+		{
+			this.productPrimaryMarket = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProductPrimaryMarketNull()
+		{
+			this.setProductPrimaryMarket(null);
+		}
+
+		public String getProductProfile()
+		{
+			return this.productProfile;
+		}
+
+		public int zGetProductProfileAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(productProfile);
+		}
+
+		public void setProductProfile(String value)
+		{
+			this.productProfile = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setProductProfileNull()
+		{
+			this.setProductProfile(null);
+		}
+
+		public int getProductUnderlierReferenceId()
+		{
+			return this.productUnderlierReferenceId;
+		}
+
+		public void setProductUnderlierReferenceId(int value)
+		{
+			this.productUnderlierReferenceId = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 2);
+		}
+
+		public double getRegCostBase()
+		{
+			return this.regCostBase;
+		}
+
+		public void setRegCostBase(double value)
+		{
+			this.regCostBase = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 38);
+		}
+
+		public double getRegQty()
+		{
+			return this.regQty;
+		}
+
+		public void setRegQty(double value)
+		{
+			this.regQty = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 40);
+		}
+
+		public double getSdFxUnrealPl()
+		{
+			return this.sdFxUnrealPl;
+		}
+
+		public void setSdFxUnrealPl(double value)
+		{
+			this.sdFxUnrealPl = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 22);
+		}
+
+		public double getSegregatedCash()
+		{
+			return this.segregatedCash;
+		}
+
+		public void setSegregatedCash(double value)
+		{
+			this.segregatedCash = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 36);
+		}
+
+		public double getSettledCash()
+		{
+			return this.settledCash;
+		}
+
+		public void setSettledCash(double value)
+		{
+			this.settledCash = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 30);
+		}
+
+		public short getTlewTrialChange()
+		{
+			return this.tlewTrialChange;
+		}
+
+		public void setTlewTrialChange(short value)
+		{
+			this.tlewTrialChange = value;
+			isNullBits0 = isNullBits0 & ~( 1L << 34);
+		}
+
+		public short getTlewTrialCreate()
+		{
+			return this.tlewTrialCreate;
+		}
+
+		public void setTlewTrialCreate(short value)
+		{
+			this.tlewTrialCreate = value;
+		}
+
+		public void setTlewTrialCreateNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getTotUnrealPl()
+		{
+			return this.totUnrealPl;
+		}
+
+		public void setTotUnrealPl(double value)
+		{
+			this.totUnrealPl = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 23);
+		}
+
+		public String getTrial()
+		{
+			return this.trial;
+		}
+
+		public int zGetTrialAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(trial);
+		}
+
+		public void setTrial(String value)
+		{
+			this.trial = StringPool.getInstance().getOrAddToCache(value, TlewTrialFinder.isFullCache());
+		}
+
+		public void setTrialNull()
+		{
+			this.setTrial(null);
+		}
+
+		public double getUnrealFutPerGmiPl()
+		{
+			return this.unrealFutPerGmiPl;
+		}
+
+		public void setUnrealFutPerGmiPl(double value)
+		{
+			this.unrealFutPerGmiPl = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 14);
+		}
+
+		public double getUnstldFwdPl()
+		{
+			return this.unstldFwdPl;
+		}
+
+		public void setUnstldFwdPl(double value)
+		{
+			this.unstldFwdPl = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 13);
+		}
+
+		public double getUnstldRwPl()
+		{
+			return this.unstldRwPl;
+		}
+
+		public void setUnstldRwPl(double value)
+		{
+			this.unstldRwPl = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 12);
+		}
+
+		public double getValuationAdj()
+		{
+			return this.valuationAdj;
+		}
+
+		public void setValuationAdj(double value)
+		{
+			this.valuationAdj = value;
+			isNullBits0 = isNullBits0 & ~( 1 << 17);
+		}
+
+		public void setProdStkPxNull()
+		{
+			isNullBits0 = (isNullBits0 | 1);
+		}
+
+		public void setProdFutCntrctSizeNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 1);
+		}
+
+		public void setProductUnderlierReferenceIdNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 2);
+		}
+
+		public void setProdRelHostNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 3);
+		}
+
+		public void setProdUndrlrPxNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 4);
+		}
+
+		public void setPositionQuantityNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 5);
+		}
+
+		public void setPosMktvlBaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 6);
+		}
+
+		public void setPosCostBaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 7);
+		}
+
+		public void setPosAccrIntBaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 8);
+		}
+
+		public void setPosPurchIntBaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 9);
+		}
+
+		public void setPosNotvlBaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 10);
+		}
+
+		public void setContractualNpvNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 11);
+		}
+
+		public void setUnstldRwPlNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 12);
+		}
+
+		public void setUnstldFwdPlNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 13);
+		}
+
+		public void setUnrealFutPerGmiPlNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 14);
+		}
+
+		public void setFairValAdjNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 15);
+		}
+
+		public void setAdjTdUnstldFutPlNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 16);
+		}
+
+		public void setValuationAdjNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 17);
+		}
+
+		public void setAccrDivNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 18);
+		}
+
+		public void setOtherTdAdjNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 19);
+		}
+
+		public void setFxRevalAdjNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 20);
+		}
+
+		public void setAdjSdResrvUnrealPlNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 21);
+		}
+
+		public void setSdFxUnrealPlNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 22);
+		}
+
+		public void setTotUnrealPlNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 23);
+		}
+
+		public void setPmeTotUnrealPlNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 24);
+		}
+
+		public void setMtdIntIncmNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 25);
+		}
+
+		public void setMtdIntXpnsNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 26);
+		}
+
+		public void setPendingCashNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 27);
+		}
+
+		public void setMtdRealTradingPlNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 28);
+		}
+
+		public void setOtherAdjCntrlTotNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 29);
+		}
+
+		public void setSettledCashNull()
+		{
+			isNullBits0 = (isNullBits0 | 1 << 30);
+		}
+
+		public void setFxPerStockRecNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 31);
+		}
+
+		public void setMtdDivIncmNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 32);
+		}
+
+		public void setMtdTransferTaxNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 33);
+		}
+
+		public void setTlewTrialChangeNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 34);
+		}
+
+		public void setOffsetPayRecvNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 35);
+		}
+
+		public void setSegregatedCashNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 36);
+		}
+
+		public void setPosXrateNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 37);
+		}
+
+		public void setRegCostBaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 38);
+		}
+
+		public void setFwdCostBaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 39);
+		}
+
+		public void setRegQtyNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 40);
+		}
+
+		public void setFwdQtyNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 41);
+		}
+
+		public void setGaapTdMktvlBaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 42);
+		}
+
+		public void setOpenIntBaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 43);
+		}
+
+		public void setMtdSdUnrealNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 44);
+		}
+
+		public void setFwdQtyGt30Null()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 45);
+		}
+
+		public void setFwdCostGt30BaseNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 46);
+		}
+
+		public void setProdUndrClassNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 47);
+		}
+
+		public void setGmiUnrealNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 48);
+		}
+
+		public void setMtdTdUnrealNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 49);
+		}
+
+		public void setLtdLcmTdUnrealNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 50);
+		}
+
+		public void setMtdLcmTdUnrealNull()
+		{
+			isNullBits0 = (isNullBits0 | 1L << 51);
+		}
+
+		public long zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(long newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TlewTrialDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.accountDescription = this.accountDescription;
+			copy.accountNumber = this.accountNumber;
+			copy.accountTypeB = this.accountTypeB;
+			copy.accountTypeC = this.accountTypeC;
+			copy.accrDiv = this.accrDiv;
+			copy.acctId = this.acctId;
+			copy.activeMtdRec = this.activeMtdRec;
+			copy.adjSdResrvUnrealPl = this.adjSdResrvUnrealPl;
+			copy.adjTdUnstldFutPl = this.adjTdUnstldFutPl;
+			copy.baseCurrency = this.baseCurrency;
+			copy.busDate = this.busDate;
+			copy.carryCharge = this.carryCharge;
+			copy.carryRebate = this.carryRebate;
+			copy.carryTransferFlag = this.carryTransferFlag;
+			copy.contractualNpv = this.contractualNpv;
+			copy.fairValAdj = this.fairValAdj;
+			copy.fwdCostBase = this.fwdCostBase;
+			copy.fwdCostGt30Base = this.fwdCostGt30Base;
+			copy.fwdQty = this.fwdQty;
+			copy.fwdQtyGt30 = this.fwdQtyGt30;
+			copy.fxPerStockRec = this.fxPerStockRec;
+			copy.fxRevalAdj = this.fxRevalAdj;
+			copy.gaapTdMktvlBase = this.gaapTdMktvlBase;
+			copy.gmiUnreal = this.gmiUnreal;
+			copy.instrument = this.instrument;
+			copy.instrumentSubType = this.instrumentSubType;
+			copy.instrumentType = this.instrumentType;
+			copy.legalEntity = this.legalEntity;
+			copy.localCurrTime = this.localCurrTime;
+			copy.ltdLcmTdUnreal = this.ltdLcmTdUnreal;
+			copy.ltdSdUnreal = this.ltdSdUnreal;
+			copy.mtdDivIncm = this.mtdDivIncm;
+			copy.mtdIntIncm = this.mtdIntIncm;
+			copy.mtdIntXpns = this.mtdIntXpns;
+			copy.mtdLcmTdUnreal = this.mtdLcmTdUnreal;
+			copy.mtdRealTradingPl = this.mtdRealTradingPl;
+			copy.mtdSdUnreal = this.mtdSdUnreal;
+			copy.mtdTdUnreal = this.mtdTdUnreal;
+			copy.mtdTransferTax = this.mtdTransferTax;
+			copy.offsetPayRecv = this.offsetPayRecv;
+			copy.openIntBase = this.openIntBase;
+			copy.otherAdjCntrlTot = this.otherAdjCntrlTot;
+			copy.otherTdAdj = this.otherTdAdj;
+			copy.paraProdType = this.paraProdType;
+			copy.pendingCash = this.pendingCash;
+			copy.pmeTotUnrealPl = this.pmeTotUnrealPl;
+			copy.posAccrIntBase = this.posAccrIntBase;
+			copy.posCostBase = this.posCostBase;
+			copy.posMktvlBase = this.posMktvlBase;
+			copy.posNotvlBase = this.posNotvlBase;
+			copy.posPurchIntBase = this.posPurchIntBase;
+			copy.posXrate = this.posXrate;
+			copy.positionQuantity = this.positionQuantity;
+			copy.positionType = this.positionType;
+			copy.primaryIncomeFunction = this.primaryIncomeFunction;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.prodFutCntrctSize = this.prodFutCntrctSize;
+			copy.prodGlobalClass = this.prodGlobalClass;
+			copy.prodRelHost = this.prodRelHost;
+			copy.prodScrpBsPostClass = this.prodScrpBsPostClass;
+			copy.prodScrpPlPostClass = this.prodScrpPlPostClass;
+			copy.prodStkPx = this.prodStkPx;
+			copy.prodSyn = this.prodSyn;
+			copy.prodType = this.prodType;
+			copy.prodUndrClass = this.prodUndrClass;
+			copy.prodUndrlrPx = this.prodUndrlrPx;
+			copy.prodXplRltn = this.prodXplRltn;
+			copy.productDescription = this.productDescription;
+			copy.productIssueCountry = this.productIssueCountry;
+			copy.productIssueCurrency = this.productIssueCurrency;
+			copy.productMaturityDate = this.productMaturityDate;
+			copy.productPrimaryMarket = this.productPrimaryMarket;
+			copy.productProfile = this.productProfile;
+			copy.productUnderlierReferenceId = this.productUnderlierReferenceId;
+			copy.regCostBase = this.regCostBase;
+			copy.regQty = this.regQty;
+			copy.sdFxUnrealPl = this.sdFxUnrealPl;
+			copy.segregatedCash = this.segregatedCash;
+			copy.settledCash = this.settledCash;
+			copy.tlewTrialChange = this.tlewTrialChange;
+			copy.tlewTrialCreate = this.tlewTrialCreate;
+			copy.totUnrealPl = this.totUnrealPl;
+			copy.trial = this.trial;
+			copy.unrealFutPerGmiPl = this.unrealFutPerGmiPl;
+			copy.unstldFwdPl = this.unstldFwdPl;
+			copy.unstldRwPl = this.unstldRwPl;
+			copy.valuationAdj = this.valuationAdj;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readLong();
+			this.accountDescription = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.accountTypeB = in.readInt();
+			this.accountTypeC = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.accrDiv = in.readDouble();
+			this.acctId = in.readInt();
+			this.activeMtdRec = in.readShort();
+			this.adjSdResrvUnrealPl = in.readDouble();
+			this.adjTdUnstldFutPl = in.readDouble();
+			this.baseCurrency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.busDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+			this.carryCharge = in.readDouble();
+			this.carryRebate = in.readDouble();
+			this.carryTransferFlag = in.readShort();
+			this.contractualNpv = in.readDouble();
+			this.fairValAdj = in.readDouble();
+			this.fwdCostBase = in.readDouble();
+			this.fwdCostGt30Base = in.readDouble();
+			this.fwdQty = in.readDouble();
+			this.fwdQtyGt30 = in.readDouble();
+			this.fxPerStockRec = in.readDouble();
+			this.fxRevalAdj = in.readDouble();
+			this.gaapTdMktvlBase = in.readDouble();
+			this.gmiUnreal = in.readDouble();
+			this.instrument = in.readInt();
+			this.instrumentSubType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.instrumentType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.legalEntity = in.readInt();
+			this.localCurrTime = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+			this.ltdLcmTdUnreal = in.readDouble();
+			this.ltdSdUnreal = in.readDouble();
+			this.mtdDivIncm = in.readDouble();
+			this.mtdIntIncm = in.readDouble();
+			this.mtdIntXpns = in.readDouble();
+			this.mtdLcmTdUnreal = in.readDouble();
+			this.mtdRealTradingPl = in.readDouble();
+			this.mtdSdUnreal = in.readDouble();
+			this.mtdTdUnreal = in.readDouble();
+			this.mtdTransferTax = in.readDouble();
+			this.offsetPayRecv = in.readDouble();
+			this.openIntBase = in.readDouble();
+			this.otherAdjCntrlTot = in.readDouble();
+			this.otherTdAdj = in.readDouble();
+			this.paraProdType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.pendingCash = in.readDouble();
+			this.pmeTotUnrealPl = in.readDouble();
+			this.posAccrIntBase = in.readDouble();
+			this.posCostBase = in.readDouble();
+			this.posMktvlBase = in.readDouble();
+			this.posNotvlBase = in.readDouble();
+			this.posPurchIntBase = in.readDouble();
+			this.posXrate = in.readDouble();
+			this.positionQuantity = in.readDouble();
+			this.positionType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.primaryIncomeFunction = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TlewTrialFinder.processingDate().getInfinityDate()), TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+			this.prodFutCntrctSize = in.readDouble();
+			this.prodGlobalClass = in.readLong();
+			this.prodRelHost = in.readDouble();
+			this.prodScrpBsPostClass = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.prodScrpPlPostClass = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.prodStkPx = in.readDouble();
+			this.prodSyn = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.prodType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.prodUndrClass = in.readInt();
+			this.prodUndrlrPx = in.readDouble();
+			this.prodXplRltn = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.productDescription = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.productIssueCountry = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.productIssueCurrency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.productMaturityDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+			this.productPrimaryMarket = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.productProfile = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.productUnderlierReferenceId = in.readInt();
+			this.regCostBase = in.readDouble();
+			this.regQty = in.readDouble();
+			this.sdFxUnrealPl = in.readDouble();
+			this.segregatedCash = in.readDouble();
+			this.settledCash = in.readDouble();
+			this.tlewTrialChange = in.readShort();
+			this.tlewTrialCreate = in.readShort();
+			this.totUnrealPl = in.readDouble();
+			this.trial = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.unrealFutPerGmiPl = in.readDouble();
+			this.unstldFwdPl = in.readDouble();
+			this.unstldRwPl = in.readDouble();
+			this.valuationAdj = in.readDouble();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TlewTrialData otherData = (TlewTrialData) other;
+			if (getAcctId() != otherData.getAcctId())
+			{
+				return false;
+			}
+
+			if (getInstrument() != otherData.getInstrument())
+			{
+				return false;
+			}
+
+			if (!isInstrumentTypeNull() ? !getInstrumentType().equals(otherData.getInstrumentType()) : !otherData.isInstrumentTypeNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.acctId);
+			out.writeInt(this.instrument);
+			out.writeObject(this.instrumentType);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, TlewTrialFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.acctId = in.readInt();
+			this.instrument = in.readInt();
+			this.instrumentType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TlewTrialFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TlewTrialFinder.processingDate().getInfinityDate()), TlewTrialFinder.isFullCache(), TlewTrialFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TlewTrialDataOffHeap data = new TlewTrialDataOffHeap();
+			data.setAccountDescription(this.getAccountDescription());
+			data.setAccountNumber(this.getAccountNumber());
+			data.setAccountTypeB(this.getAccountTypeB());
+			data.setAccountTypeC(this.getAccountTypeC());
+			data.setAccrDiv(this.getAccrDiv());
+			if (this.isAccrDivNull()) data.setAccrDivNull();
+			data.setAcctId(this.getAcctId());
+			data.setActiveMtdRec(this.getActiveMtdRec());
+			data.setAdjSdResrvUnrealPl(this.getAdjSdResrvUnrealPl());
+			if (this.isAdjSdResrvUnrealPlNull()) data.setAdjSdResrvUnrealPlNull();
+			data.setAdjTdUnstldFutPl(this.getAdjTdUnstldFutPl());
+			if (this.isAdjTdUnstldFutPlNull()) data.setAdjTdUnstldFutPlNull();
+			data.setBaseCurrency(this.getBaseCurrency());
+			data.setBusDate(this.getBusDate());
+			data.setCarryCharge(this.getCarryCharge());
+			data.setCarryRebate(this.getCarryRebate());
+			data.setCarryTransferFlag(this.getCarryTransferFlag());
+			data.setContractualNpv(this.getContractualNpv());
+			if (this.isContractualNpvNull()) data.setContractualNpvNull();
+			data.setFairValAdj(this.getFairValAdj());
+			if (this.isFairValAdjNull()) data.setFairValAdjNull();
+			data.setFwdCostBase(this.getFwdCostBase());
+			if (this.isFwdCostBaseNull()) data.setFwdCostBaseNull();
+			data.setFwdCostGt30Base(this.getFwdCostGt30Base());
+			if (this.isFwdCostGt30BaseNull()) data.setFwdCostGt30BaseNull();
+			data.setFwdQty(this.getFwdQty());
+			if (this.isFwdQtyNull()) data.setFwdQtyNull();
+			data.setFwdQtyGt30(this.getFwdQtyGt30());
+			if (this.isFwdQtyGt30Null()) data.setFwdQtyGt30Null();
+			data.setFxPerStockRec(this.getFxPerStockRec());
+			if (this.isFxPerStockRecNull()) data.setFxPerStockRecNull();
+			data.setFxRevalAdj(this.getFxRevalAdj());
+			if (this.isFxRevalAdjNull()) data.setFxRevalAdjNull();
+			data.setGaapTdMktvlBase(this.getGaapTdMktvlBase());
+			if (this.isGaapTdMktvlBaseNull()) data.setGaapTdMktvlBaseNull();
+			data.setGmiUnreal(this.getGmiUnreal());
+			if (this.isGmiUnrealNull()) data.setGmiUnrealNull();
+			data.setInstrument(this.getInstrument());
+			data.setInstrumentSubType(this.getInstrumentSubType());
+			data.setInstrumentType(this.getInstrumentType());
+			data.setLegalEntity(this.getLegalEntity());
+			data.setLocalCurrTime(this.getLocalCurrTime());
+			data.setLtdLcmTdUnreal(this.getLtdLcmTdUnreal());
+			if (this.isLtdLcmTdUnrealNull()) data.setLtdLcmTdUnrealNull();
+			data.setLtdSdUnreal(this.getLtdSdUnreal());
+			data.setMtdDivIncm(this.getMtdDivIncm());
+			if (this.isMtdDivIncmNull()) data.setMtdDivIncmNull();
+			data.setMtdIntIncm(this.getMtdIntIncm());
+			if (this.isMtdIntIncmNull()) data.setMtdIntIncmNull();
+			data.setMtdIntXpns(this.getMtdIntXpns());
+			if (this.isMtdIntXpnsNull()) data.setMtdIntXpnsNull();
+			data.setMtdLcmTdUnreal(this.getMtdLcmTdUnreal());
+			if (this.isMtdLcmTdUnrealNull()) data.setMtdLcmTdUnrealNull();
+			data.setMtdRealTradingPl(this.getMtdRealTradingPl());
+			if (this.isMtdRealTradingPlNull()) data.setMtdRealTradingPlNull();
+			data.setMtdSdUnreal(this.getMtdSdUnreal());
+			if (this.isMtdSdUnrealNull()) data.setMtdSdUnrealNull();
+			data.setMtdTdUnreal(this.getMtdTdUnreal());
+			if (this.isMtdTdUnrealNull()) data.setMtdTdUnrealNull();
+			data.setMtdTransferTax(this.getMtdTransferTax());
+			if (this.isMtdTransferTaxNull()) data.setMtdTransferTaxNull();
+			data.setOffsetPayRecv(this.getOffsetPayRecv());
+			if (this.isOffsetPayRecvNull()) data.setOffsetPayRecvNull();
+			data.setOpenIntBase(this.getOpenIntBase());
+			if (this.isOpenIntBaseNull()) data.setOpenIntBaseNull();
+			data.setOtherAdjCntrlTot(this.getOtherAdjCntrlTot());
+			if (this.isOtherAdjCntrlTotNull()) data.setOtherAdjCntrlTotNull();
+			data.setOtherTdAdj(this.getOtherTdAdj());
+			if (this.isOtherTdAdjNull()) data.setOtherTdAdjNull();
+			data.setParaProdType(this.getParaProdType());
+			data.setPendingCash(this.getPendingCash());
+			if (this.isPendingCashNull()) data.setPendingCashNull();
+			data.setPmeTotUnrealPl(this.getPmeTotUnrealPl());
+			if (this.isPmeTotUnrealPlNull()) data.setPmeTotUnrealPlNull();
+			data.setPosAccrIntBase(this.getPosAccrIntBase());
+			if (this.isPosAccrIntBaseNull()) data.setPosAccrIntBaseNull();
+			data.setPosCostBase(this.getPosCostBase());
+			if (this.isPosCostBaseNull()) data.setPosCostBaseNull();
+			data.setPosMktvlBase(this.getPosMktvlBase());
+			if (this.isPosMktvlBaseNull()) data.setPosMktvlBaseNull();
+			data.setPosNotvlBase(this.getPosNotvlBase());
+			if (this.isPosNotvlBaseNull()) data.setPosNotvlBaseNull();
+			data.setPosPurchIntBase(this.getPosPurchIntBase());
+			if (this.isPosPurchIntBaseNull()) data.setPosPurchIntBaseNull();
+			data.setPosXrate(this.getPosXrate());
+			if (this.isPosXrateNull()) data.setPosXrateNull();
+			data.setPositionQuantity(this.getPositionQuantity());
+			if (this.isPositionQuantityNull()) data.setPositionQuantityNull();
+			data.setPositionType(this.getPositionType());
+			data.setPrimaryIncomeFunction(this.getPrimaryIncomeFunction());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setProdFutCntrctSize(this.getProdFutCntrctSize());
+			if (this.isProdFutCntrctSizeNull()) data.setProdFutCntrctSizeNull();
+			data.setProdGlobalClass(this.getProdGlobalClass());
+			data.setProdRelHost(this.getProdRelHost());
+			if (this.isProdRelHostNull()) data.setProdRelHostNull();
+			data.setProdScrpBsPostClass(this.getProdScrpBsPostClass());
+			data.setProdScrpPlPostClass(this.getProdScrpPlPostClass());
+			data.setProdStkPx(this.getProdStkPx());
+			if (this.isProdStkPxNull()) data.setProdStkPxNull();
+			data.setProdSyn(this.getProdSyn());
+			data.setProdType(this.getProdType());
+			data.setProdUndrClass(this.getProdUndrClass());
+			if (this.isProdUndrClassNull()) data.setProdUndrClassNull();
+			data.setProdUndrlrPx(this.getProdUndrlrPx());
+			if (this.isProdUndrlrPxNull()) data.setProdUndrlrPxNull();
+			data.setProdXplRltn(this.getProdXplRltn());
+			data.setProductDescription(this.getProductDescription());
+			data.setProductIssueCountry(this.getProductIssueCountry());
+			data.setProductIssueCurrency(this.getProductIssueCurrency());
+			data.setProductMaturityDate(this.getProductMaturityDate());
+			data.setProductPrimaryMarket(this.getProductPrimaryMarket());
+			data.setProductProfile(this.getProductProfile());
+			data.setProductUnderlierReferenceId(this.getProductUnderlierReferenceId());
+			if (this.isProductUnderlierReferenceIdNull()) data.setProductUnderlierReferenceIdNull();
+			data.setRegCostBase(this.getRegCostBase());
+			if (this.isRegCostBaseNull()) data.setRegCostBaseNull();
+			data.setRegQty(this.getRegQty());
+			if (this.isRegQtyNull()) data.setRegQtyNull();
+			data.setSdFxUnrealPl(this.getSdFxUnrealPl());
+			if (this.isSdFxUnrealPlNull()) data.setSdFxUnrealPlNull();
+			data.setSegregatedCash(this.getSegregatedCash());
+			if (this.isSegregatedCashNull()) data.setSegregatedCashNull();
+			data.setSettledCash(this.getSettledCash());
+			if (this.isSettledCashNull()) data.setSettledCashNull();
+			data.setTlewTrialChange(this.getTlewTrialChange());
+			if (this.isTlewTrialChangeNull()) data.setTlewTrialChangeNull();
+			data.setTlewTrialCreate(this.getTlewTrialCreate());
+			data.setTotUnrealPl(this.getTotUnrealPl());
+			if (this.isTotUnrealPlNull()) data.setTotUnrealPlNull();
+			data.setTrial(this.getTrial());
+			data.setUnrealFutPerGmiPl(this.getUnrealFutPerGmiPl());
+			if (this.isUnrealFutPerGmiPlNull()) data.setUnrealFutPerGmiPlNull();
+			data.setUnstldFwdPl(this.getUnstldFwdPl());
+			if (this.isUnstldFwdPlNull()) data.setUnstldFwdPlNull();
+			data.setUnstldRwPl(this.getUnstldRwPl());
+			if (this.isUnstldRwPlNull()) data.setUnstldRwPlNull();
+			data.setValuationAdj(this.getValuationAdj());
+			if (this.isValuationAdjNull()) data.setValuationAdjNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TlewTrialData tlewTrialData = (TlewTrialData) newData;
+			this.setAccountDescription(tlewTrialData.getAccountDescription());
+			this.setAccountNumber(tlewTrialData.getAccountNumber());
+			this.setAccountTypeB(tlewTrialData.getAccountTypeB());
+			this.setAccountTypeC(tlewTrialData.getAccountTypeC());
+			this.setAccrDiv(tlewTrialData.getAccrDiv());
+			if (tlewTrialData.isAccrDivNull()) this.setAccrDivNull();
+			this.setActiveMtdRec(tlewTrialData.getActiveMtdRec());
+			this.setAdjSdResrvUnrealPl(tlewTrialData.getAdjSdResrvUnrealPl());
+			if (tlewTrialData.isAdjSdResrvUnrealPlNull()) this.setAdjSdResrvUnrealPlNull();
+			this.setAdjTdUnstldFutPl(tlewTrialData.getAdjTdUnstldFutPl());
+			if (tlewTrialData.isAdjTdUnstldFutPlNull()) this.setAdjTdUnstldFutPlNull();
+			this.setBaseCurrency(tlewTrialData.getBaseCurrency());
+			this.setBusDate(tlewTrialData.getBusDate());
+			this.setCarryCharge(tlewTrialData.getCarryCharge());
+			this.setCarryRebate(tlewTrialData.getCarryRebate());
+			this.setCarryTransferFlag(tlewTrialData.getCarryTransferFlag());
+			this.setContractualNpv(tlewTrialData.getContractualNpv());
+			if (tlewTrialData.isContractualNpvNull()) this.setContractualNpvNull();
+			this.setFairValAdj(tlewTrialData.getFairValAdj());
+			if (tlewTrialData.isFairValAdjNull()) this.setFairValAdjNull();
+			this.setFwdCostBase(tlewTrialData.getFwdCostBase());
+			if (tlewTrialData.isFwdCostBaseNull()) this.setFwdCostBaseNull();
+			this.setFwdCostGt30Base(tlewTrialData.getFwdCostGt30Base());
+			if (tlewTrialData.isFwdCostGt30BaseNull()) this.setFwdCostGt30BaseNull();
+			this.setFwdQty(tlewTrialData.getFwdQty());
+			if (tlewTrialData.isFwdQtyNull()) this.setFwdQtyNull();
+			this.setFwdQtyGt30(tlewTrialData.getFwdQtyGt30());
+			if (tlewTrialData.isFwdQtyGt30Null()) this.setFwdQtyGt30Null();
+			this.setFxPerStockRec(tlewTrialData.getFxPerStockRec());
+			if (tlewTrialData.isFxPerStockRecNull()) this.setFxPerStockRecNull();
+			this.setFxRevalAdj(tlewTrialData.getFxRevalAdj());
+			if (tlewTrialData.isFxRevalAdjNull()) this.setFxRevalAdjNull();
+			this.setGaapTdMktvlBase(tlewTrialData.getGaapTdMktvlBase());
+			if (tlewTrialData.isGaapTdMktvlBaseNull()) this.setGaapTdMktvlBaseNull();
+			this.setGmiUnreal(tlewTrialData.getGmiUnreal());
+			if (tlewTrialData.isGmiUnrealNull()) this.setGmiUnrealNull();
+			this.setInstrumentSubType(tlewTrialData.getInstrumentSubType());
+			this.setLegalEntity(tlewTrialData.getLegalEntity());
+			this.setLocalCurrTime(tlewTrialData.getLocalCurrTime());
+			this.setLtdLcmTdUnreal(tlewTrialData.getLtdLcmTdUnreal());
+			if (tlewTrialData.isLtdLcmTdUnrealNull()) this.setLtdLcmTdUnrealNull();
+			this.setLtdSdUnreal(tlewTrialData.getLtdSdUnreal());
+			this.setMtdDivIncm(tlewTrialData.getMtdDivIncm());
+			if (tlewTrialData.isMtdDivIncmNull()) this.setMtdDivIncmNull();
+			this.setMtdIntIncm(tlewTrialData.getMtdIntIncm());
+			if (tlewTrialData.isMtdIntIncmNull()) this.setMtdIntIncmNull();
+			this.setMtdIntXpns(tlewTrialData.getMtdIntXpns());
+			if (tlewTrialData.isMtdIntXpnsNull()) this.setMtdIntXpnsNull();
+			this.setMtdLcmTdUnreal(tlewTrialData.getMtdLcmTdUnreal());
+			if (tlewTrialData.isMtdLcmTdUnrealNull()) this.setMtdLcmTdUnrealNull();
+			this.setMtdRealTradingPl(tlewTrialData.getMtdRealTradingPl());
+			if (tlewTrialData.isMtdRealTradingPlNull()) this.setMtdRealTradingPlNull();
+			this.setMtdSdUnreal(tlewTrialData.getMtdSdUnreal());
+			if (tlewTrialData.isMtdSdUnrealNull()) this.setMtdSdUnrealNull();
+			this.setMtdTdUnreal(tlewTrialData.getMtdTdUnreal());
+			if (tlewTrialData.isMtdTdUnrealNull()) this.setMtdTdUnrealNull();
+			this.setMtdTransferTax(tlewTrialData.getMtdTransferTax());
+			if (tlewTrialData.isMtdTransferTaxNull()) this.setMtdTransferTaxNull();
+			this.setOffsetPayRecv(tlewTrialData.getOffsetPayRecv());
+			if (tlewTrialData.isOffsetPayRecvNull()) this.setOffsetPayRecvNull();
+			this.setOpenIntBase(tlewTrialData.getOpenIntBase());
+			if (tlewTrialData.isOpenIntBaseNull()) this.setOpenIntBaseNull();
+			this.setOtherAdjCntrlTot(tlewTrialData.getOtherAdjCntrlTot());
+			if (tlewTrialData.isOtherAdjCntrlTotNull()) this.setOtherAdjCntrlTotNull();
+			this.setOtherTdAdj(tlewTrialData.getOtherTdAdj());
+			if (tlewTrialData.isOtherTdAdjNull()) this.setOtherTdAdjNull();
+			this.setParaProdType(tlewTrialData.getParaProdType());
+			this.setPendingCash(tlewTrialData.getPendingCash());
+			if (tlewTrialData.isPendingCashNull()) this.setPendingCashNull();
+			this.setPmeTotUnrealPl(tlewTrialData.getPmeTotUnrealPl());
+			if (tlewTrialData.isPmeTotUnrealPlNull()) this.setPmeTotUnrealPlNull();
+			this.setPosAccrIntBase(tlewTrialData.getPosAccrIntBase());
+			if (tlewTrialData.isPosAccrIntBaseNull()) this.setPosAccrIntBaseNull();
+			this.setPosCostBase(tlewTrialData.getPosCostBase());
+			if (tlewTrialData.isPosCostBaseNull()) this.setPosCostBaseNull();
+			this.setPosMktvlBase(tlewTrialData.getPosMktvlBase());
+			if (tlewTrialData.isPosMktvlBaseNull()) this.setPosMktvlBaseNull();
+			this.setPosNotvlBase(tlewTrialData.getPosNotvlBase());
+			if (tlewTrialData.isPosNotvlBaseNull()) this.setPosNotvlBaseNull();
+			this.setPosPurchIntBase(tlewTrialData.getPosPurchIntBase());
+			if (tlewTrialData.isPosPurchIntBaseNull()) this.setPosPurchIntBaseNull();
+			this.setPosXrate(tlewTrialData.getPosXrate());
+			if (tlewTrialData.isPosXrateNull()) this.setPosXrateNull();
+			this.setPositionQuantity(tlewTrialData.getPositionQuantity());
+			if (tlewTrialData.isPositionQuantityNull()) this.setPositionQuantityNull();
+			this.setPositionType(tlewTrialData.getPositionType());
+			this.setPrimaryIncomeFunction(tlewTrialData.getPrimaryIncomeFunction());
+			this.setProcessingDateFrom(tlewTrialData.getProcessingDateFrom());
+			this.setProcessingDateTo(tlewTrialData.getProcessingDateTo());
+			this.setProdFutCntrctSize(tlewTrialData.getProdFutCntrctSize());
+			if (tlewTrialData.isProdFutCntrctSizeNull()) this.setProdFutCntrctSizeNull();
+			this.setProdGlobalClass(tlewTrialData.getProdGlobalClass());
+			this.setProdRelHost(tlewTrialData.getProdRelHost());
+			if (tlewTrialData.isProdRelHostNull()) this.setProdRelHostNull();
+			this.setProdScrpBsPostClass(tlewTrialData.getProdScrpBsPostClass());
+			this.setProdScrpPlPostClass(tlewTrialData.getProdScrpPlPostClass());
+			this.setProdStkPx(tlewTrialData.getProdStkPx());
+			if (tlewTrialData.isProdStkPxNull()) this.setProdStkPxNull();
+			this.setProdSyn(tlewTrialData.getProdSyn());
+			this.setProdType(tlewTrialData.getProdType());
+			this.setProdUndrClass(tlewTrialData.getProdUndrClass());
+			if (tlewTrialData.isProdUndrClassNull()) this.setProdUndrClassNull();
+			this.setProdUndrlrPx(tlewTrialData.getProdUndrlrPx());
+			if (tlewTrialData.isProdUndrlrPxNull()) this.setProdUndrlrPxNull();
+			this.setProdXplRltn(tlewTrialData.getProdXplRltn());
+			this.setProductDescription(tlewTrialData.getProductDescription());
+			this.setProductIssueCountry(tlewTrialData.getProductIssueCountry());
+			this.setProductIssueCurrency(tlewTrialData.getProductIssueCurrency());
+			this.setProductMaturityDate(tlewTrialData.getProductMaturityDate());
+			this.setProductPrimaryMarket(tlewTrialData.getProductPrimaryMarket());
+			this.setProductProfile(tlewTrialData.getProductProfile());
+			this.setProductUnderlierReferenceId(tlewTrialData.getProductUnderlierReferenceId());
+			if (tlewTrialData.isProductUnderlierReferenceIdNull()) this.setProductUnderlierReferenceIdNull();
+			this.setRegCostBase(tlewTrialData.getRegCostBase());
+			if (tlewTrialData.isRegCostBaseNull()) this.setRegCostBaseNull();
+			this.setRegQty(tlewTrialData.getRegQty());
+			if (tlewTrialData.isRegQtyNull()) this.setRegQtyNull();
+			this.setSdFxUnrealPl(tlewTrialData.getSdFxUnrealPl());
+			if (tlewTrialData.isSdFxUnrealPlNull()) this.setSdFxUnrealPlNull();
+			this.setSegregatedCash(tlewTrialData.getSegregatedCash());
+			if (tlewTrialData.isSegregatedCashNull()) this.setSegregatedCashNull();
+			this.setSettledCash(tlewTrialData.getSettledCash());
+			if (tlewTrialData.isSettledCashNull()) this.setSettledCashNull();
+			this.setTlewTrialChange(tlewTrialData.getTlewTrialChange());
+			if (tlewTrialData.isTlewTrialChangeNull()) this.setTlewTrialChangeNull();
+			this.setTlewTrialCreate(tlewTrialData.getTlewTrialCreate());
+			this.setTotUnrealPl(tlewTrialData.getTotUnrealPl());
+			if (tlewTrialData.isTotUnrealPlNull()) this.setTotUnrealPlNull();
+			this.setTrial(tlewTrialData.getTrial());
+			this.setUnrealFutPerGmiPl(tlewTrialData.getUnrealFutPerGmiPl());
+			if (tlewTrialData.isUnrealFutPerGmiPlNull()) this.setUnrealFutPerGmiPlNull();
+			this.setUnstldFwdPl(tlewTrialData.getUnstldFwdPl());
+			if (tlewTrialData.isUnstldFwdPlNull()) this.setUnstldFwdPlNull();
+			this.setUnstldRwPl(tlewTrialData.getUnstldRwPl());
+			if (tlewTrialData.isUnstldRwPlNull()) this.setUnstldRwPlNull();
+			this.setValuationAdj(tlewTrialData.getValuationAdj());
+			if (tlewTrialData.isValuationAdjNull()) this.setValuationAdjNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TlewTrialData other = (TlewTrialData) newData;
+			if (!isAccountDescriptionNull() ? !getAccountDescription().equals(other.getAccountDescription()) : !other.isAccountDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(other.getAccountNumber()) : !other.isAccountNumberNull())
+			{
+				return true;
+			}
+
+			if ( getAccountTypeB() != other.getAccountTypeB())
+			{
+				return true;
+			}
+
+			if (!isAccountTypeCNull() ? !getAccountTypeC().equals(other.getAccountTypeC()) : !other.isAccountTypeCNull())
+			{
+				return true;
+			}
+
+			if ( isAccrDivNull() != other.isAccrDivNull() || Math.abs(getAccrDiv() - other.getAccrDiv()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getActiveMtdRec() != other.getActiveMtdRec())
+			{
+				return true;
+			}
+
+			if ( isAdjSdResrvUnrealPlNull() != other.isAdjSdResrvUnrealPlNull() || Math.abs(getAdjSdResrvUnrealPl() - other.getAdjSdResrvUnrealPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isAdjTdUnstldFutPlNull() != other.isAdjTdUnstldFutPlNull() || Math.abs(getAdjTdUnstldFutPl() - other.getAdjTdUnstldFutPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isBaseCurrencyNull() ? !getBaseCurrency().equals(other.getBaseCurrency()) : !other.isBaseCurrencyNull())
+			{
+				return true;
+			}
+
+			if (!isBusDateNull() ? !getBusDate().equals(other.getBusDate()) : !other.isBusDateNull())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getCarryCharge() - other.getCarryCharge()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( Math.abs(getCarryRebate() - other.getCarryRebate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getCarryTransferFlag() != other.getCarryTransferFlag())
+			{
+				return true;
+			}
+
+			if ( isContractualNpvNull() != other.isContractualNpvNull() || Math.abs(getContractualNpv() - other.getContractualNpv()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFairValAdjNull() != other.isFairValAdjNull() || Math.abs(getFairValAdj() - other.getFairValAdj()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFwdCostBaseNull() != other.isFwdCostBaseNull() || Math.abs(getFwdCostBase() - other.getFwdCostBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFwdCostGt30BaseNull() != other.isFwdCostGt30BaseNull() || Math.abs(getFwdCostGt30Base() - other.getFwdCostGt30Base()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFwdQtyNull() != other.isFwdQtyNull() || Math.abs(getFwdQty() - other.getFwdQty()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFwdQtyGt30Null() != other.isFwdQtyGt30Null() || Math.abs(getFwdQtyGt30() - other.getFwdQtyGt30()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFxPerStockRecNull() != other.isFxPerStockRecNull() || Math.abs(getFxPerStockRec() - other.getFxPerStockRec()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFxRevalAdjNull() != other.isFxRevalAdjNull() || Math.abs(getFxRevalAdj() - other.getFxRevalAdj()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isGaapTdMktvlBaseNull() != other.isGaapTdMktvlBaseNull() || Math.abs(getGaapTdMktvlBase() - other.getGaapTdMktvlBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isGmiUnrealNull() != other.isGmiUnrealNull() || Math.abs(getGmiUnreal() - other.getGmiUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isInstrumentSubTypeNull() ? !getInstrumentSubType().equals(other.getInstrumentSubType()) : !other.isInstrumentSubTypeNull())
+			{
+				return true;
+			}
+
+			if ( getLegalEntity() != other.getLegalEntity())
+			{
+				return true;
+			}
+
+			if (!isLocalCurrTimeNull() ? !getLocalCurrTime().equals(other.getLocalCurrTime()) : !other.isLocalCurrTimeNull())
+			{
+				return true;
+			}
+
+			if ( isLtdLcmTdUnrealNull() != other.isLtdLcmTdUnrealNull() || Math.abs(getLtdLcmTdUnreal() - other.getLtdLcmTdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( Math.abs(getLtdSdUnreal() - other.getLtdSdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdDivIncmNull() != other.isMtdDivIncmNull() || Math.abs(getMtdDivIncm() - other.getMtdDivIncm()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdIntIncmNull() != other.isMtdIntIncmNull() || Math.abs(getMtdIntIncm() - other.getMtdIntIncm()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdIntXpnsNull() != other.isMtdIntXpnsNull() || Math.abs(getMtdIntXpns() - other.getMtdIntXpns()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdLcmTdUnrealNull() != other.isMtdLcmTdUnrealNull() || Math.abs(getMtdLcmTdUnreal() - other.getMtdLcmTdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdRealTradingPlNull() != other.isMtdRealTradingPlNull() || Math.abs(getMtdRealTradingPl() - other.getMtdRealTradingPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdSdUnrealNull() != other.isMtdSdUnrealNull() || Math.abs(getMtdSdUnreal() - other.getMtdSdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdTdUnrealNull() != other.isMtdTdUnrealNull() || Math.abs(getMtdTdUnreal() - other.getMtdTdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdTransferTaxNull() != other.isMtdTransferTaxNull() || Math.abs(getMtdTransferTax() - other.getMtdTransferTax()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isOffsetPayRecvNull() != other.isOffsetPayRecvNull() || Math.abs(getOffsetPayRecv() - other.getOffsetPayRecv()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isOpenIntBaseNull() != other.isOpenIntBaseNull() || Math.abs(getOpenIntBase() - other.getOpenIntBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isOtherAdjCntrlTotNull() != other.isOtherAdjCntrlTotNull() || Math.abs(getOtherAdjCntrlTot() - other.getOtherAdjCntrlTot()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isOtherTdAdjNull() != other.isOtherTdAdjNull() || Math.abs(getOtherTdAdj() - other.getOtherTdAdj()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isParaProdTypeNull() ? !getParaProdType().equals(other.getParaProdType()) : !other.isParaProdTypeNull())
+			{
+				return true;
+			}
+
+			if ( isPendingCashNull() != other.isPendingCashNull() || Math.abs(getPendingCash() - other.getPendingCash()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPmeTotUnrealPlNull() != other.isPmeTotUnrealPlNull() || Math.abs(getPmeTotUnrealPl() - other.getPmeTotUnrealPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosAccrIntBaseNull() != other.isPosAccrIntBaseNull() || Math.abs(getPosAccrIntBase() - other.getPosAccrIntBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosCostBaseNull() != other.isPosCostBaseNull() || Math.abs(getPosCostBase() - other.getPosCostBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosMktvlBaseNull() != other.isPosMktvlBaseNull() || Math.abs(getPosMktvlBase() - other.getPosMktvlBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosNotvlBaseNull() != other.isPosNotvlBaseNull() || Math.abs(getPosNotvlBase() - other.getPosNotvlBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosPurchIntBaseNull() != other.isPosPurchIntBaseNull() || Math.abs(getPosPurchIntBase() - other.getPosPurchIntBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosXrateNull() != other.isPosXrateNull() || Math.abs(getPosXrate() - other.getPosXrate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPositionQuantityNull() != other.isPositionQuantityNull() || Math.abs(getPositionQuantity() - other.getPositionQuantity()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isPositionTypeNull() ? !getPositionType().equals(other.getPositionType()) : !other.isPositionTypeNull())
+			{
+				return true;
+			}
+
+			if (!isPrimaryIncomeFunctionNull() ? !getPrimaryIncomeFunction().equals(other.getPrimaryIncomeFunction()) : !other.isPrimaryIncomeFunctionNull())
+			{
+				return true;
+			}
+
+			if ( isProdFutCntrctSizeNull() != other.isProdFutCntrctSizeNull() || Math.abs(getProdFutCntrctSize() - other.getProdFutCntrctSize()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getProdGlobalClass() != other.getProdGlobalClass())
+			{
+				return true;
+			}
+
+			if ( isProdRelHostNull() != other.isProdRelHostNull() || Math.abs(getProdRelHost() - other.getProdRelHost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isProdScrpBsPostClassNull() ? !getProdScrpBsPostClass().equals(other.getProdScrpBsPostClass()) : !other.isProdScrpBsPostClassNull())
+			{
+				return true;
+			}
+
+			if (!isProdScrpPlPostClassNull() ? !getProdScrpPlPostClass().equals(other.getProdScrpPlPostClass()) : !other.isProdScrpPlPostClassNull())
+			{
+				return true;
+			}
+
+			if ( isProdStkPxNull() != other.isProdStkPxNull() || Math.abs(getProdStkPx() - other.getProdStkPx()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isProdSynNull() ? !getProdSyn().equals(other.getProdSyn()) : !other.isProdSynNull())
+			{
+				return true;
+			}
+
+			if (!isProdTypeNull() ? !getProdType().equals(other.getProdType()) : !other.isProdTypeNull())
+			{
+				return true;
+			}
+
+			if ( isProdUndrClassNull() != other.isProdUndrClassNull() || getProdUndrClass() != other.getProdUndrClass())
+			{
+				return true;
+			}
+
+			if ( isProdUndrlrPxNull() != other.isProdUndrlrPxNull() || Math.abs(getProdUndrlrPx() - other.getProdUndrlrPx()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isProdXplRltnNull() ? !getProdXplRltn().equals(other.getProdXplRltn()) : !other.isProdXplRltnNull())
+			{
+				return true;
+			}
+
+			if (!isProductDescriptionNull() ? !getProductDescription().equals(other.getProductDescription()) : !other.isProductDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isProductIssueCountryNull() ? !getProductIssueCountry().equals(other.getProductIssueCountry()) : !other.isProductIssueCountryNull())
+			{
+				return true;
+			}
+
+			if (!isProductIssueCurrencyNull() ? !getProductIssueCurrency().equals(other.getProductIssueCurrency()) : !other.isProductIssueCurrencyNull())
+			{
+				return true;
+			}
+
+			if (!isProductMaturityDateNull() ? !getProductMaturityDate().equals(other.getProductMaturityDate()) : !other.isProductMaturityDateNull())
+			{
+				return true;
+			}
+
+			if (!isProductPrimaryMarketNull() ? !getProductPrimaryMarket().equals(other.getProductPrimaryMarket()) : !other.isProductPrimaryMarketNull())
+			{
+				return true;
+			}
+
+			if (!isProductProfileNull() ? !getProductProfile().equals(other.getProductProfile()) : !other.isProductProfileNull())
+			{
+				return true;
+			}
+
+			if ( isProductUnderlierReferenceIdNull() != other.isProductUnderlierReferenceIdNull() || getProductUnderlierReferenceId() != other.getProductUnderlierReferenceId())
+			{
+				return true;
+			}
+
+			if ( isRegCostBaseNull() != other.isRegCostBaseNull() || Math.abs(getRegCostBase() - other.getRegCostBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isRegQtyNull() != other.isRegQtyNull() || Math.abs(getRegQty() - other.getRegQty()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isSdFxUnrealPlNull() != other.isSdFxUnrealPlNull() || Math.abs(getSdFxUnrealPl() - other.getSdFxUnrealPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isSegregatedCashNull() != other.isSegregatedCashNull() || Math.abs(getSegregatedCash() - other.getSegregatedCash()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isSettledCashNull() != other.isSettledCashNull() || Math.abs(getSettledCash() - other.getSettledCash()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isTlewTrialChangeNull() != other.isTlewTrialChangeNull() || getTlewTrialChange() != other.getTlewTrialChange())
+			{
+				return true;
+			}
+
+			if ( getTlewTrialCreate() != other.getTlewTrialCreate())
+			{
+				return true;
+			}
+
+			if ( isTotUnrealPlNull() != other.isTotUnrealPlNull() || Math.abs(getTotUnrealPl() - other.getTotUnrealPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isTrialNull() ? !getTrial().equals(other.getTrial()) : !other.isTrialNull())
+			{
+				return true;
+			}
+
+			if ( isUnrealFutPerGmiPlNull() != other.isUnrealFutPerGmiPlNull() || Math.abs(getUnrealFutPerGmiPl() - other.getUnrealFutPerGmiPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isUnstldFwdPlNull() != other.isUnstldFwdPlNull() || Math.abs(getUnstldFwdPl() - other.getUnstldFwdPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isUnstldRwPlNull() != other.isUnstldRwPlNull() || Math.abs(getUnstldRwPl() - other.getUnstldRwPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isValuationAdjNull() != other.isValuationAdjNull() || Math.abs(getValuationAdj() - other.getValuationAdj()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TlewTrialDataOnHeap copy = new TlewTrialDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TlewTrialDataOnHeap copy = new TlewTrialDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "acctId: "+(""+getAcctId())+ " / ";
+			result += "instrument: "+(""+getInstrument())+ " / ";
+			result += "instrumentType: "+"'"+getInstrumentType()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TlewTrialData otherData = (TlewTrialData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TlewTrialData otherData = (TlewTrialData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.TlewTrialData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TlewTrialFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TlewTrialFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.TlewTrialData";
+		}
+	}
+
+	public class TlewTrialDataOffHeap extends MithraOffHeapDataObject implements TlewTrialData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TlewTrialDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 70);
+			this.zSetTimestamp(_storage, value, 184);
+			this.zSetTimestamp(_storage, value, 388);
+			this.zSetTimestamp(_storage, value, 396);
+			this.zSetTimestamp(_storage, value, 480);
+		}
+
+		public TlewTrialDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isAccountDescriptionNull()
+		{
+			return zIsStringNull(_storage, 24);
+		}
+
+		public boolean isAccountNumberNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isAccountTypeBNull()
+		{
+			return false;
+		}
+
+		public boolean isAccountTypeCNull()
+		{
+			return zIsStringNull(_storage, 36);
+		}
+
+		public boolean isAccrDivNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isAcctIdNull()
+		{
+			return false;
+		}
+
+		public boolean isActiveMtdRecNull()
+		{
+			return false;
+		}
+
+		public boolean isAdjSdResrvUnrealPlNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isAdjTdUnstldFutPlNull()
+		{
+			return zIsNull(_storage, 4, 2);
+		}
+
+		public boolean isBaseCurrencyNull()
+		{
+			return zIsStringNull(_storage, 66);
+		}
+
+		public boolean isBusDateNull()
+		{
+			return zIsTimestampNull(_storage, 70);
+		}
+
+		public boolean isCarryChargeNull()
+		{
+			return false;
+		}
+
+		public boolean isCarryRebateNull()
+		{
+			return false;
+		}
+
+		public boolean isCarryTransferFlagNull()
+		{
+			return false;
+		}
+
+		public boolean isContractualNpvNull()
+		{
+			return zIsNull(_storage, 4, 3);
+		}
+
+		public boolean isFairValAdjNull()
+		{
+			return zIsNull(_storage, 4, 4);
+		}
+
+		public boolean isFwdCostBaseNull()
+		{
+			return zIsNull(_storage, 4, 5);
+		}
+
+		public boolean isFwdCostGt30BaseNull()
+		{
+			return zIsNull(_storage, 4, 6);
+		}
+
+		public boolean isFwdQtyNull()
+		{
+			return zIsNull(_storage, 4, 7);
+		}
+
+		public boolean isFwdQtyGt30Null()
+		{
+			return zIsNull(_storage, 4, 8);
+		}
+
+		public boolean isFxPerStockRecNull()
+		{
+			return zIsNull(_storage, 4, 9);
+		}
+
+		public boolean isFxRevalAdjNull()
+		{
+			return zIsNull(_storage, 4, 10);
+		}
+
+		public boolean isGaapTdMktvlBaseNull()
+		{
+			return zIsNull(_storage, 4, 11);
+		}
+
+		public boolean isGmiUnrealNull()
+		{
+			return zIsNull(_storage, 4, 12);
+		}
+
+		public boolean isInstrumentNull()
+		{
+			return false;
+		}
+
+		public boolean isInstrumentSubTypeNull()
+		{
+			return zIsStringNull(_storage, 176);
+		}
+
+		public boolean isInstrumentTypeNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isLegalEntityNull()
+		{
+			return false;
+		}
+
+		public boolean isLocalCurrTimeNull()
+		{
+			return zIsTimestampNull(_storage, 184);
+		}
+
+		public boolean isLtdLcmTdUnrealNull()
+		{
+			return zIsNull(_storage, 4, 13);
+		}
+
+		public boolean isLtdSdUnrealNull()
+		{
+			return false;
+		}
+
+		public boolean isMtdDivIncmNull()
+		{
+			return zIsNull(_storage, 4, 14);
+		}
+
+		public boolean isMtdIntIncmNull()
+		{
+			return zIsNull(_storage, 4, 15);
+		}
+
+		public boolean isMtdIntXpnsNull()
+		{
+			return zIsNull(_storage, 4, 16);
+		}
+
+		public boolean isMtdLcmTdUnrealNull()
+		{
+			return zIsNull(_storage, 4, 17);
+		}
+
+		public boolean isMtdRealTradingPlNull()
+		{
+			return zIsNull(_storage, 4, 18);
+		}
+
+		public boolean isMtdSdUnrealNull()
+		{
+			return zIsNull(_storage, 4, 19);
+		}
+
+		public boolean isMtdTdUnrealNull()
+		{
+			return zIsNull(_storage, 4, 20);
+		}
+
+		public boolean isMtdTransferTaxNull()
+		{
+			return zIsNull(_storage, 4, 21);
+		}
+
+		public boolean isOffsetPayRecvNull()
+		{
+			return zIsNull(_storage, 4, 22);
+		}
+
+		public boolean isOpenIntBaseNull()
+		{
+			return zIsNull(_storage, 4, 23);
+		}
+
+		public boolean isOtherAdjCntrlTotNull()
+		{
+			return zIsNull(_storage, 4, 24);
+		}
+
+		public boolean isOtherTdAdjNull()
+		{
+			return zIsNull(_storage, 4, 25);
+		}
+
+		public boolean isParaProdTypeNull()
+		{
+			return zIsStringNull(_storage, 304);
+		}
+
+		public boolean isPendingCashNull()
+		{
+			return zIsNull(_storage, 4, 26);
+		}
+
+		public boolean isPmeTotUnrealPlNull()
+		{
+			return zIsNull(_storage, 4, 27);
+		}
+
+		public boolean isPosAccrIntBaseNull()
+		{
+			return zIsNull(_storage, 4, 28);
+		}
+
+		public boolean isPosCostBaseNull()
+		{
+			return zIsNull(_storage, 4, 29);
+		}
+
+		public boolean isPosMktvlBaseNull()
+		{
+			return zIsNull(_storage, 4, 30);
+		}
+
+		public boolean isPosNotvlBaseNull()
+		{
+			return zIsNull(_storage, 4, 31);
+		}
+
+		public boolean isPosPurchIntBaseNull()
+		{
+			return zIsNull(_storage, 8, 0);
+		}
+
+		public boolean isPosXrateNull()
+		{
+			return zIsNull(_storage, 8, 1);
+		}
+
+		public boolean isPositionQuantityNull()
+		{
+			return zIsNull(_storage, 8, 2);
+		}
+
+		public boolean isPositionTypeNull()
+		{
+			return zIsStringNull(_storage, 380);
+		}
+
+		public boolean isPrimaryIncomeFunctionNull()
+		{
+			return zIsStringNull(_storage, 384);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 388);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 396);
+		}
+
+		public boolean isProdFutCntrctSizeNull()
+		{
+			return zIsNull(_storage, 8, 3);
+		}
+
+		public boolean isProdGlobalClassNull()
+		{
+			return false;
+		}
+
+		public boolean isProdRelHostNull()
+		{
+			return zIsNull(_storage, 8, 4);
+		}
+
+		public boolean isProdScrpBsPostClassNull()
+		{
+			return zIsStringNull(_storage, 428);
+		}
+
+		public boolean isProdScrpPlPostClassNull()
+		{
+			return zIsStringNull(_storage, 432);
+		}
+
+		public boolean isProdStkPxNull()
+		{
+			return zIsNull(_storage, 8, 5);
+		}
+
+		public boolean isProdSynNull()
+		{
+			return zIsStringNull(_storage, 444);
+		}
+
+		public boolean isProdTypeNull()
+		{
+			return zIsStringNull(_storage, 448);
+		}
+
+		public boolean isProdUndrClassNull()
+		{
+			return zIsNull(_storage, 8, 6);
+		}
+
+		public boolean isProdUndrlrPxNull()
+		{
+			return zIsNull(_storage, 8, 7);
+		}
+
+		public boolean isProdXplRltnNull()
+		{
+			return zIsStringNull(_storage, 464);
+		}
+
+		public boolean isProductDescriptionNull()
+		{
+			return zIsStringNull(_storage, 468);
+		}
+
+		public boolean isProductIssueCountryNull()
+		{
+			return zIsStringNull(_storage, 472);
+		}
+
+		public boolean isProductIssueCurrencyNull()
+		{
+			return zIsStringNull(_storage, 476);
+		}
+
+		public boolean isProductMaturityDateNull()
+		{
+			return zIsTimestampNull(_storage, 480);
+		}
+
+		public boolean isProductPrimaryMarketNull()
+		{
+			return zIsStringNull(_storage, 488);
+		}
+
+		public boolean isProductProfileNull()
+		{
+			return zIsStringNull(_storage, 492);
+		}
+
+		public boolean isProductUnderlierReferenceIdNull()
+		{
+			return zIsNull(_storage, 8, 8);
+		}
+
+		public boolean isRegCostBaseNull()
+		{
+			return zIsNull(_storage, 8, 9);
+		}
+
+		public boolean isRegQtyNull()
+		{
+			return zIsNull(_storage, 8, 10);
+		}
+
+		public boolean isSdFxUnrealPlNull()
+		{
+			return zIsNull(_storage, 8, 11);
+		}
+
+		public boolean isSegregatedCashNull()
+		{
+			return zIsNull(_storage, 8, 12);
+		}
+
+		public boolean isSettledCashNull()
+		{
+			return zIsNull(_storage, 8, 13);
+		}
+
+		public boolean isTlewTrialChangeNull()
+		{
+			return zIsNull(_storage, 8, 14);
+		}
+
+		public boolean isTlewTrialCreateNull()
+		{
+			return false;
+		}
+
+		public boolean isTotUnrealPlNull()
+		{
+			return zIsNull(_storage, 8, 15);
+		}
+
+		public boolean isTrialNull()
+		{
+			return zIsStringNull(_storage, 552);
+		}
+
+		public boolean isUnrealFutPerGmiPlNull()
+		{
+			return zIsNull(_storage, 8, 16);
+		}
+
+		public boolean isUnstldFwdPlNull()
+		{
+			return zIsNull(_storage, 8, 17);
+		}
+
+		public boolean isUnstldRwPlNull()
+		{
+			return zIsNull(_storage, 8, 18);
+		}
+
+		public boolean isValuationAdjNull()
+		{
+			return zIsNull(_storage, 8, 19);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeObject(this.getAccountDescription());
+			out.writeObject(this.getAccountNumber());
+			out.writeInt(this.getAccountTypeB());
+			out.writeObject(this.getAccountTypeC());
+			out.writeDouble(this.getAccrDiv());
+			out.writeInt(this.getAcctId());
+			out.writeShort(this.getActiveMtdRec());
+			out.writeDouble(this.getAdjSdResrvUnrealPl());
+			out.writeDouble(this.getAdjTdUnstldFutPl());
+			out.writeObject(this.getBaseCurrency());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusDateAsLong());
+			out.writeDouble(this.getCarryCharge());
+			out.writeDouble(this.getCarryRebate());
+			out.writeShort(this.getCarryTransferFlag());
+			out.writeDouble(this.getContractualNpv());
+			out.writeDouble(this.getFairValAdj());
+			out.writeDouble(this.getFwdCostBase());
+			out.writeDouble(this.getFwdCostGt30Base());
+			out.writeDouble(this.getFwdQty());
+			out.writeDouble(this.getFwdQtyGt30());
+			out.writeDouble(this.getFxPerStockRec());
+			out.writeDouble(this.getFxRevalAdj());
+			out.writeDouble(this.getGaapTdMktvlBase());
+			out.writeDouble(this.getGmiUnreal());
+			out.writeInt(this.getInstrument());
+			out.writeObject(this.getInstrumentSubType());
+			out.writeObject(this.getInstrumentType());
+			out.writeInt(this.getLegalEntity());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetLocalCurrTimeAsLong());
+			out.writeDouble(this.getLtdLcmTdUnreal());
+			out.writeDouble(this.getLtdSdUnreal());
+			out.writeDouble(this.getMtdDivIncm());
+			out.writeDouble(this.getMtdIntIncm());
+			out.writeDouble(this.getMtdIntXpns());
+			out.writeDouble(this.getMtdLcmTdUnreal());
+			out.writeDouble(this.getMtdRealTradingPl());
+			out.writeDouble(this.getMtdSdUnreal());
+			out.writeDouble(this.getMtdTdUnreal());
+			out.writeDouble(this.getMtdTransferTax());
+			out.writeDouble(this.getOffsetPayRecv());
+			out.writeDouble(this.getOpenIntBase());
+			out.writeDouble(this.getOtherAdjCntrlTot());
+			out.writeDouble(this.getOtherTdAdj());
+			out.writeObject(this.getParaProdType());
+			out.writeDouble(this.getPendingCash());
+			out.writeDouble(this.getPmeTotUnrealPl());
+			out.writeDouble(this.getPosAccrIntBase());
+			out.writeDouble(this.getPosCostBase());
+			out.writeDouble(this.getPosMktvlBase());
+			out.writeDouble(this.getPosNotvlBase());
+			out.writeDouble(this.getPosPurchIntBase());
+			out.writeDouble(this.getPosXrate());
+			out.writeDouble(this.getPositionQuantity());
+			out.writeObject(this.getPositionType());
+			out.writeObject(this.getPrimaryIncomeFunction());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TlewTrialFinder.processingDate().getInfinityDate());
+			out.writeDouble(this.getProdFutCntrctSize());
+			out.writeLong(this.getProdGlobalClass());
+			out.writeDouble(this.getProdRelHost());
+			out.writeObject(this.getProdScrpBsPostClass());
+			out.writeObject(this.getProdScrpPlPostClass());
+			out.writeDouble(this.getProdStkPx());
+			out.writeObject(this.getProdSyn());
+			out.writeObject(this.getProdType());
+			out.writeInt(this.getProdUndrClass());
+			out.writeDouble(this.getProdUndrlrPx());
+			out.writeObject(this.getProdXplRltn());
+			out.writeObject(this.getProductDescription());
+			out.writeObject(this.getProductIssueCountry());
+			out.writeObject(this.getProductIssueCurrency());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProductMaturityDateAsLong());
+			out.writeObject(this.getProductPrimaryMarket());
+			out.writeObject(this.getProductProfile());
+			out.writeInt(this.getProductUnderlierReferenceId());
+			out.writeDouble(this.getRegCostBase());
+			out.writeDouble(this.getRegQty());
+			out.writeDouble(this.getSdFxUnrealPl());
+			out.writeDouble(this.getSegregatedCash());
+			out.writeDouble(this.getSettledCash());
+			out.writeShort(this.getTlewTrialChange());
+			out.writeShort(this.getTlewTrialCreate());
+			out.writeDouble(this.getTotUnrealPl());
+			out.writeObject(this.getTrial());
+			out.writeDouble(this.getUnrealFutPerGmiPl());
+			out.writeDouble(this.getUnstldFwdPl());
+			out.writeDouble(this.getUnstldRwPl());
+			out.writeDouble(this.getValuationAdj());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			long isNullBits0 = 0;
+			if (isProdStkPxNull())
+			{
+				isNullBits0 = (isNullBits0 | 1);
+			}
+
+			if (isProdFutCntrctSizeNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 1);
+			}
+
+			if (isProductUnderlierReferenceIdNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 2);
+			}
+
+			if (isProdRelHostNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 3);
+			}
+
+			if (isProdUndrlrPxNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 4);
+			}
+
+			if (isPositionQuantityNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 5);
+			}
+
+			if (isPosMktvlBaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 6);
+			}
+
+			if (isPosCostBaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 7);
+			}
+
+			if (isPosAccrIntBaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 8);
+			}
+
+			if (isPosPurchIntBaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 9);
+			}
+
+			if (isPosNotvlBaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 10);
+			}
+
+			if (isContractualNpvNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 11);
+			}
+
+			if (isUnstldRwPlNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 12);
+			}
+
+			if (isUnstldFwdPlNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 13);
+			}
+
+			if (isUnrealFutPerGmiPlNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 14);
+			}
+
+			if (isFairValAdjNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 15);
+			}
+
+			if (isAdjTdUnstldFutPlNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 16);
+			}
+
+			if (isValuationAdjNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 17);
+			}
+
+			if (isAccrDivNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 18);
+			}
+
+			if (isOtherTdAdjNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 19);
+			}
+
+			if (isFxRevalAdjNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 20);
+			}
+
+			if (isAdjSdResrvUnrealPlNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 21);
+			}
+
+			if (isSdFxUnrealPlNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 22);
+			}
+
+			if (isTotUnrealPlNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 23);
+			}
+
+			if (isPmeTotUnrealPlNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 24);
+			}
+
+			if (isMtdIntIncmNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 25);
+			}
+
+			if (isMtdIntXpnsNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 26);
+			}
+
+			if (isPendingCashNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 27);
+			}
+
+			if (isMtdRealTradingPlNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 28);
+			}
+
+			if (isOtherAdjCntrlTotNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 29);
+			}
+
+			if (isSettledCashNull())
+			{
+				isNullBits0 = (isNullBits0 | 1 << 30);
+			}
+
+			if (isFxPerStockRecNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 31);
+			}
+
+			if (isMtdDivIncmNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 32);
+			}
+
+			if (isMtdTransferTaxNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 33);
+			}
+
+			if (isTlewTrialChangeNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 34);
+			}
+
+			if (isOffsetPayRecvNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 35);
+			}
+
+			if (isSegregatedCashNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 36);
+			}
+
+			if (isPosXrateNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 37);
+			}
+
+			if (isRegCostBaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 38);
+			}
+
+			if (isFwdCostBaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 39);
+			}
+
+			if (isRegQtyNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 40);
+			}
+
+			if (isFwdQtyNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 41);
+			}
+
+			if (isGaapTdMktvlBaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 42);
+			}
+
+			if (isOpenIntBaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 43);
+			}
+
+			if (isMtdSdUnrealNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 44);
+			}
+
+			if (isFwdQtyGt30Null())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 45);
+			}
+
+			if (isFwdCostGt30BaseNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 46);
+			}
+
+			if (isProdUndrClassNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 47);
+			}
+
+			if (isGmiUnrealNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 48);
+			}
+
+			if (isMtdTdUnrealNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 49);
+			}
+
+			if (isLtdLcmTdUnrealNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 50);
+			}
+
+			if (isMtdLcmTdUnrealNull())
+			{
+				isNullBits0 = (isNullBits0 | 1L << 51);
+			}
+
+			out.writeLong(isNullBits0);
+		}
+
+		public String getAccountDescription()
+		{
+			return zGetString(_storage, 24);
+		}
+
+		public int zGetAccountDescriptionAsInt()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setAccountDescription(String value)
+		{
+			zSetString(_storage, value, 24);
+		}
+
+		public void setAccountDescriptionNull()
+		{
+			this.setAccountDescription(null);
+		}
+
+		public String getAccountNumber()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetAccountNumberAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setAccountNumber(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setAccountNumberNull()
+		{
+			this.setAccountNumber(null);
+		}
+
+		public int getAccountTypeB()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setAccountTypeB(int value)
+		{
+			zSetInteger(_storage, value, 32, -1, -1);
+		}
+
+		public void setAccountTypeBNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getAccountTypeC()
+		{
+			return zGetString(_storage, 36);
+		}
+
+		public int zGetAccountTypeCAsInt()
+		{
+			return zGetInteger(_storage, 36);
+		}
+
+		public void setAccountTypeC(String value)
+		{
+			zSetString(_storage, value, 36);
+		}
+
+		public void setAccountTypeCNull()
+		{
+			this.setAccountTypeC(null);
+		}
+
+		public double getAccrDiv()
+		{
+			return zGetDouble(_storage, 40);
+		}
+
+		public void setAccrDiv(double value)
+		{
+			zSetDouble(_storage, value, 40, 4, 0);
+		}
+
+		public int getAcctId()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setAcctId(int value)
+		{
+			zSetInteger(_storage, value, 12, -1, -1);
+		}
+
+		public void setAcctIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public short getActiveMtdRec()
+		{
+			return zGetShort(_storage, 48);
+		}
+
+		public void setActiveMtdRec(short value)
+		{
+			zSetShort(_storage, value, 48, -1, -1);
+		}
+
+		public void setActiveMtdRecNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getAdjSdResrvUnrealPl()
+		{
+			return zGetDouble(_storage, 50);
+		}
+
+		public void setAdjSdResrvUnrealPl(double value)
+		{
+			zSetDouble(_storage, value, 50, 4, 1);
+		}
+
+		public double getAdjTdUnstldFutPl()
+		{
+			return zGetDouble(_storage, 58);
+		}
+
+		public void setAdjTdUnstldFutPl(double value)
+		{
+			zSetDouble(_storage, value, 58, 4, 2);
+		}
+
+		public String getBaseCurrency()
+		{
+			return zGetString(_storage, 66);
+		}
+
+		public int zGetBaseCurrencyAsInt()
+		{
+			return zGetInteger(_storage, 66);
+		}
+
+		public void setBaseCurrency(String value)
+		{
+			zSetString(_storage, value, 66);
+		}
+
+		public void setBaseCurrencyNull()
+		{
+			this.setBaseCurrency(null);
+		}
+
+		public Timestamp getBusDate()
+		{
+			return zGetTimestamp(_storage, 70);
+		}
+
+		public long zGetBusDateAsLong()
+		{
+			return zGetLong(_storage, 70);
+		}
+
+		public void setBusDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 70);
+		}
+
+		public void setBusDateNull()
+		{
+			this.setBusDate(null);
+		}
+
+		public double getCarryCharge()
+		{
+			return zGetDouble(_storage, 78);
+		}
+
+		public void setCarryCharge(double value)
+		{
+			zSetDouble(_storage, value, 78, -1, -1);
+		}
+
+		public void setCarryChargeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getCarryRebate()
+		{
+			return zGetDouble(_storage, 86);
+		}
+
+		public void setCarryRebate(double value)
+		{
+			zSetDouble(_storage, value, 86, -1, -1);
+		}
+
+		public void setCarryRebateNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public short getCarryTransferFlag()
+		{
+			return zGetShort(_storage, 94);
+		}
+
+		public void setCarryTransferFlag(short value)
+		{
+			zSetShort(_storage, value, 94, -1, -1);
+		}
+
+		public void setCarryTransferFlagNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getContractualNpv()
+		{
+			return zGetDouble(_storage, 96);
+		}
+
+		public void setContractualNpv(double value)
+		{
+			zSetDouble(_storage, value, 96, 4, 3);
+		}
+
+		public double getFairValAdj()
+		{
+			return zGetDouble(_storage, 104);
+		}
+
+		public void setFairValAdj(double value)
+		{
+			zSetDouble(_storage, value, 104, 4, 4);
+		}
+
+		public double getFwdCostBase()
+		{
+			return zGetDouble(_storage, 112);
+		}
+
+		public void setFwdCostBase(double value)
+		{
+			zSetDouble(_storage, value, 112, 4, 5);
+		}
+
+		public double getFwdCostGt30Base()
+		{
+			return zGetDouble(_storage, 120);
+		}
+
+		public void setFwdCostGt30Base(double value)
+		{
+			zSetDouble(_storage, value, 120, 4, 6);
+		}
+
+		public double getFwdQty()
+		{
+			return zGetDouble(_storage, 128);
+		}
+
+		public void setFwdQty(double value)
+		{
+			zSetDouble(_storage, value, 128, 4, 7);
+		}
+
+		public double getFwdQtyGt30()
+		{
+			return zGetDouble(_storage, 136);
+		}
+
+		public void setFwdQtyGt30(double value)
+		{
+			zSetDouble(_storage, value, 136, 4, 8);
+		}
+
+		public double getFxPerStockRec()
+		{
+			return zGetDouble(_storage, 144);
+		}
+
+		public void setFxPerStockRec(double value)
+		{
+			zSetDouble(_storage, value, 144, 4, 9);
+		}
+
+		public double getFxRevalAdj()
+		{
+			return zGetDouble(_storage, 152);
+		}
+
+		public void setFxRevalAdj(double value)
+		{
+			zSetDouble(_storage, value, 152, 4, 10);
+		}
+
+		public double getGaapTdMktvlBase()
+		{
+			return zGetDouble(_storage, 160);
+		}
+
+		public void setGaapTdMktvlBase(double value)
+		{
+			zSetDouble(_storage, value, 160, 4, 11);
+		}
+
+		public double getGmiUnreal()
+		{
+			return zGetDouble(_storage, 168);
+		}
+
+		public void setGmiUnreal(double value)
+		{
+			zSetDouble(_storage, value, 168, 4, 12);
+		}
+
+		public int getInstrument()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setInstrument(int value)
+		{
+			zSetInteger(_storage, value, 16, -1, -1);
+		}
+
+		public void setInstrumentNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getInstrumentSubType()
+		{
+			return zGetString(_storage, 176);
+		}
+
+		public int zGetInstrumentSubTypeAsInt()
+		{
+			return zGetInteger(_storage, 176);
+		}
+
+		public void setInstrumentSubType(String value)
+		{
+			zSetString(_storage, value, 176);
+		}
+
+		public void setInstrumentSubTypeNull()
+		{
+			this.setInstrumentSubType(null);
+		}
+
+		public String getInstrumentType()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetInstrumentTypeAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setInstrumentType(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setInstrumentTypeNull()
+		{
+			this.setInstrumentType(null);
+		}
+
+		public int getLegalEntity()
+		{
+			return zGetInteger(_storage, 180);
+		}
+
+		public void setLegalEntity(int value)
+		{
+			zSetInteger(_storage, value, 180, -1, -1);
+		}
+
+		public void setLegalEntityNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getLocalCurrTime()
+		{
+			return zGetTimestamp(_storage, 184);
+		}
+
+		public long zGetLocalCurrTimeAsLong()
+		{
+			return zGetLong(_storage, 184);
+		}
+
+		public void setLocalCurrTime(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 184);
+		}
+
+		public void setLocalCurrTimeNull()
+		{
+			this.setLocalCurrTime(null);
+		}
+
+		public double getLtdLcmTdUnreal()
+		{
+			return zGetDouble(_storage, 192);
+		}
+
+		public void setLtdLcmTdUnreal(double value)
+		{
+			zSetDouble(_storage, value, 192, 4, 13);
+		}
+
+		public double getLtdSdUnreal()
+		{
+			return zGetDouble(_storage, 200);
+		}
+
+		public void setLtdSdUnreal(double value)
+		{
+			zSetDouble(_storage, value, 200, -1, -1);
+		}
+
+		public void setLtdSdUnrealNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getMtdDivIncm()
+		{
+			return zGetDouble(_storage, 208);
+		}
+
+		public void setMtdDivIncm(double value)
+		{
+			zSetDouble(_storage, value, 208, 4, 14);
+		}
+
+		public double getMtdIntIncm()
+		{
+			return zGetDouble(_storage, 216);
+		}
+
+		public void setMtdIntIncm(double value)
+		{
+			zSetDouble(_storage, value, 216, 4, 15);
+		}
+
+		public double getMtdIntXpns()
+		{
+			return zGetDouble(_storage, 224);
+		}
+
+		public void setMtdIntXpns(double value)
+		{
+			zSetDouble(_storage, value, 224, 4, 16);
+		}
+
+		public double getMtdLcmTdUnreal()
+		{
+			return zGetDouble(_storage, 232);
+		}
+
+		public void setMtdLcmTdUnreal(double value)
+		{
+			zSetDouble(_storage, value, 232, 4, 17);
+		}
+
+		public double getMtdRealTradingPl()
+		{
+			return zGetDouble(_storage, 240);
+		}
+
+		public void setMtdRealTradingPl(double value)
+		{
+			zSetDouble(_storage, value, 240, 4, 18);
+		}
+
+		public double getMtdSdUnreal()
+		{
+			return zGetDouble(_storage, 248);
+		}
+
+		public void setMtdSdUnreal(double value)
+		{
+			zSetDouble(_storage, value, 248, 4, 19);
+		}
+
+		public double getMtdTdUnreal()
+		{
+			return zGetDouble(_storage, 256);
+		}
+
+		public void setMtdTdUnreal(double value)
+		{
+			zSetDouble(_storage, value, 256, 4, 20);
+		}
+
+		public double getMtdTransferTax()
+		{
+			return zGetDouble(_storage, 264);
+		}
+
+		public void setMtdTransferTax(double value)
+		{
+			zSetDouble(_storage, value, 264, 4, 21);
+		}
+
+		public double getOffsetPayRecv()
+		{
+			return zGetDouble(_storage, 272);
+		}
+
+		public void setOffsetPayRecv(double value)
+		{
+			zSetDouble(_storage, value, 272, 4, 22);
+		}
+
+		public double getOpenIntBase()
+		{
+			return zGetDouble(_storage, 280);
+		}
+
+		public void setOpenIntBase(double value)
+		{
+			zSetDouble(_storage, value, 280, 4, 23);
+		}
+
+		public double getOtherAdjCntrlTot()
+		{
+			return zGetDouble(_storage, 288);
+		}
+
+		public void setOtherAdjCntrlTot(double value)
+		{
+			zSetDouble(_storage, value, 288, 4, 24);
+		}
+
+		public double getOtherTdAdj()
+		{
+			return zGetDouble(_storage, 296);
+		}
+
+		public void setOtherTdAdj(double value)
+		{
+			zSetDouble(_storage, value, 296, 4, 25);
+		}
+
+		public String getParaProdType()
+		{
+			return zGetString(_storage, 304);
+		}
+
+		public int zGetParaProdTypeAsInt()
+		{
+			return zGetInteger(_storage, 304);
+		}
+
+		public void setParaProdType(String value)
+		{
+			zSetString(_storage, value, 304);
+		}
+
+		public void setParaProdTypeNull()
+		{
+			this.setParaProdType(null);
+		}
+
+		public double getPendingCash()
+		{
+			return zGetDouble(_storage, 308);
+		}
+
+		public void setPendingCash(double value)
+		{
+			zSetDouble(_storage, value, 308, 4, 26);
+		}
+
+		public double getPmeTotUnrealPl()
+		{
+			return zGetDouble(_storage, 316);
+		}
+
+		public void setPmeTotUnrealPl(double value)
+		{
+			zSetDouble(_storage, value, 316, 4, 27);
+		}
+
+		public double getPosAccrIntBase()
+		{
+			return zGetDouble(_storage, 324);
+		}
+
+		public void setPosAccrIntBase(double value)
+		{
+			zSetDouble(_storage, value, 324, 4, 28);
+		}
+
+		public double getPosCostBase()
+		{
+			return zGetDouble(_storage, 332);
+		}
+
+		public void setPosCostBase(double value)
+		{
+			zSetDouble(_storage, value, 332, 4, 29);
+		}
+
+		public double getPosMktvlBase()
+		{
+			return zGetDouble(_storage, 340);
+		}
+
+		public void setPosMktvlBase(double value)
+		{
+			zSetDouble(_storage, value, 340, 4, 30);
+		}
+
+		public double getPosNotvlBase()
+		{
+			return zGetDouble(_storage, 348);
+		}
+
+		public void setPosNotvlBase(double value)
+		{
+			zSetDouble(_storage, value, 348, 4, 31);
+		}
+
+		public double getPosPurchIntBase()
+		{
+			return zGetDouble(_storage, 356);
+		}
+
+		public void setPosPurchIntBase(double value)
+		{
+			zSetDouble(_storage, value, 356, 8, 0);
+		}
+
+		public double getPosXrate()
+		{
+			return zGetDouble(_storage, 364);
+		}
+
+		public void setPosXrate(double value)
+		{
+			zSetDouble(_storage, value, 364, 8, 1);
+		}
+
+		public double getPositionQuantity()
+		{
+			return zGetDouble(_storage, 372);
+		}
+
+		public void setPositionQuantity(double value)
+		{
+			zSetDouble(_storage, value, 372, 8, 2);
+		}
+
+		public String getPositionType()
+		{
+			return zGetString(_storage, 380);
+		}
+
+		public int zGetPositionTypeAsInt()
+		{
+			return zGetInteger(_storage, 380);
+		}
+
+		public void setPositionType(String value)
+		{
+			zSetString(_storage, value, 380);
+		}
+
+		public void setPositionTypeNull()
+		{
+			this.setPositionType(null);
+		}
+
+		public String getPrimaryIncomeFunction()
+		{
+			return zGetString(_storage, 384);
+		}
+
+		public int zGetPrimaryIncomeFunctionAsInt()
+		{
+			return zGetInteger(_storage, 384);
+		}
+
+		public void setPrimaryIncomeFunction(String value)
+		{
+			zSetString(_storage, value, 384);
+		}
+
+		public void setPrimaryIncomeFunctionNull()
+		{
+			this.setPrimaryIncomeFunction(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 388);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 388);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 388);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 396);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 396);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 396);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getProdFutCntrctSize()
+		{
+			return zGetDouble(_storage, 404);
+		}
+
+		public void setProdFutCntrctSize(double value)
+		{
+			zSetDouble(_storage, value, 404, 8, 3);
+		}
+
+		public long getProdGlobalClass()
+		{
+			return zGetLong(_storage, 412);
+		}
+
+		public void setProdGlobalClass(long value)
+		{
+			zSetLong(_storage, value, 412, -1, -1);
+		}
+
+		public void setProdGlobalClassNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getProdRelHost()
+		{
+			return zGetDouble(_storage, 420);
+		}
+
+		public void setProdRelHost(double value)
+		{
+			zSetDouble(_storage, value, 420, 8, 4);
+		}
+
+		public String getProdScrpBsPostClass()
+		{
+			return zGetString(_storage, 428);
+		}
+
+		public int zGetProdScrpBsPostClassAsInt()
+		{
+			return zGetInteger(_storage, 428);
+		}
+
+		public void setProdScrpBsPostClass(String value)
+		{
+			zSetString(_storage, value, 428);
+		}
+
+		public void setProdScrpBsPostClassNull()
+		{
+			this.setProdScrpBsPostClass(null);
+		}
+
+		public String getProdScrpPlPostClass()
+		{
+			return zGetString(_storage, 432);
+		}
+
+		public int zGetProdScrpPlPostClassAsInt()
+		{
+			return zGetInteger(_storage, 432);
+		}
+
+		public void setProdScrpPlPostClass(String value)
+		{
+			zSetString(_storage, value, 432);
+		}
+
+		public void setProdScrpPlPostClassNull()
+		{
+			this.setProdScrpPlPostClass(null);
+		}
+
+		public double getProdStkPx()
+		{
+			return zGetDouble(_storage, 436);
+		}
+
+		public void setProdStkPx(double value)
+		{
+			zSetDouble(_storage, value, 436, 8, 5);
+		}
+
+		public String getProdSyn()
+		{
+			return zGetString(_storage, 444);
+		}
+
+		public int zGetProdSynAsInt()
+		{
+			return zGetInteger(_storage, 444);
+		}
+
+		public void setProdSyn(String value)
+		{
+			zSetString(_storage, value, 444);
+		}
+
+		public void setProdSynNull()
+		{
+			this.setProdSyn(null);
+		}
+
+		public String getProdType()
+		{
+			return zGetString(_storage, 448);
+		}
+
+		public int zGetProdTypeAsInt()
+		{
+			return zGetInteger(_storage, 448);
+		}
+
+		public void setProdType(String value)
+		{
+			zSetString(_storage, value, 448);
+		}
+
+		public void setProdTypeNull()
+		{
+			this.setProdType(null);
+		}
+
+		public int getProdUndrClass()
+		{
+			return zGetInteger(_storage, 452);
+		}
+
+		public void setProdUndrClass(int value)
+		{
+			zSetInteger(_storage, value, 452, 8, 6);
+		}
+
+		public double getProdUndrlrPx()
+		{
+			return zGetDouble(_storage, 456);
+		}
+
+		public void setProdUndrlrPx(double value)
+		{
+			zSetDouble(_storage, value, 456, 8, 7);
+		}
+
+		public String getProdXplRltn()
+		{
+			return zGetString(_storage, 464);
+		}
+
+		public int zGetProdXplRltnAsInt()
+		{
+			return zGetInteger(_storage, 464);
+		}
+
+		public void setProdXplRltn(String value)
+		{
+			zSetString(_storage, value, 464);
+		}
+
+		public void setProdXplRltnNull()
+		{
+			this.setProdXplRltn(null);
+		}
+
+		public String getProductDescription()
+		{
+			return zGetString(_storage, 468);
+		}
+
+		public int zGetProductDescriptionAsInt()
+		{
+			return zGetInteger(_storage, 468);
+		}
+
+		public void setProductDescription(String value)
+		{
+			zSetString(_storage, value, 468);
+		}
+
+		public void setProductDescriptionNull()
+		{
+			this.setProductDescription(null);
+		}
+
+		public String getProductIssueCountry()
+		{
+			return zGetString(_storage, 472);
+		}
+
+		public int zGetProductIssueCountryAsInt()
+		{
+			return zGetInteger(_storage, 472);
+		}
+
+		public void setProductIssueCountry(String value)
+		{
+			zSetString(_storage, value, 472);
+		}
+
+		public void setProductIssueCountryNull()
+		{
+			this.setProductIssueCountry(null);
+		}
+
+		public String getProductIssueCurrency()
+		{
+			return zGetString(_storage, 476);
+		}
+
+		public int zGetProductIssueCurrencyAsInt()
+		{
+			return zGetInteger(_storage, 476);
+		}
+
+		public void setProductIssueCurrency(String value)
+		{
+			zSetString(_storage, value, 476);
+		}
+
+		public void setProductIssueCurrencyNull()
+		{
+			this.setProductIssueCurrency(null);
+		}
+
+		public Timestamp getProductMaturityDate()
+		{
+			return zGetTimestamp(_storage, 480);
+		}
+
+		public long zGetProductMaturityDateAsLong()
+		{
+			return zGetLong(_storage, 480);
+		}
+
+		public void setProductMaturityDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 480);
+		}
+
+		public void setProductMaturityDateNull()
+		{
+			this.setProductMaturityDate(null);
+		}
+
+		public String getProductPrimaryMarket()
+		{
+			return zGetString(_storage, 488);
+		}
+
+		public int zGetProductPrimaryMarketAsInt()
+		{
+			return zGetInteger(_storage, 488);
+		}
+
+		public void setProductPrimaryMarket(String value)
+		{
+			zSetString(_storage, value, 488);
+		}
+
+		public void setProductPrimaryMarketNull()
+		{
+			this.setProductPrimaryMarket(null);
+		}
+
+		public String getProductProfile()
+		{
+			return zGetString(_storage, 492);
+		}
+
+		public int zGetProductProfileAsInt()
+		{
+			return zGetInteger(_storage, 492);
+		}
+
+		public void setProductProfile(String value)
+		{
+			zSetString(_storage, value, 492);
+		}
+
+		public void setProductProfileNull()
+		{
+			this.setProductProfile(null);
+		}
+
+		public int getProductUnderlierReferenceId()
+		{
+			return zGetInteger(_storage, 496);
+		}
+
+		public void setProductUnderlierReferenceId(int value)
+		{
+			zSetInteger(_storage, value, 496, 8, 8);
+		}
+
+		public double getRegCostBase()
+		{
+			return zGetDouble(_storage, 500);
+		}
+
+		public void setRegCostBase(double value)
+		{
+			zSetDouble(_storage, value, 500, 8, 9);
+		}
+
+		public double getRegQty()
+		{
+			return zGetDouble(_storage, 508);
+		}
+
+		public void setRegQty(double value)
+		{
+			zSetDouble(_storage, value, 508, 8, 10);
+		}
+
+		public double getSdFxUnrealPl()
+		{
+			return zGetDouble(_storage, 516);
+		}
+
+		public void setSdFxUnrealPl(double value)
+		{
+			zSetDouble(_storage, value, 516, 8, 11);
+		}
+
+		public double getSegregatedCash()
+		{
+			return zGetDouble(_storage, 524);
+		}
+
+		public void setSegregatedCash(double value)
+		{
+			zSetDouble(_storage, value, 524, 8, 12);
+		}
+
+		public double getSettledCash()
+		{
+			return zGetDouble(_storage, 532);
+		}
+
+		public void setSettledCash(double value)
+		{
+			zSetDouble(_storage, value, 532, 8, 13);
+		}
+
+		public short getTlewTrialChange()
+		{
+			return zGetShort(_storage, 540);
+		}
+
+		public void setTlewTrialChange(short value)
+		{
+			zSetShort(_storage, value, 540, 8, 14);
+		}
+
+		public short getTlewTrialCreate()
+		{
+			return zGetShort(_storage, 542);
+		}
+
+		public void setTlewTrialCreate(short value)
+		{
+			zSetShort(_storage, value, 542, -1, -1);
+		}
+
+		public void setTlewTrialCreateNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getTotUnrealPl()
+		{
+			return zGetDouble(_storage, 544);
+		}
+
+		public void setTotUnrealPl(double value)
+		{
+			zSetDouble(_storage, value, 544, 8, 15);
+		}
+
+		public String getTrial()
+		{
+			return zGetString(_storage, 552);
+		}
+
+		public int zGetTrialAsInt()
+		{
+			return zGetInteger(_storage, 552);
+		}
+
+		public void setTrial(String value)
+		{
+			zSetString(_storage, value, 552);
+		}
+
+		public void setTrialNull()
+		{
+			this.setTrial(null);
+		}
+
+		public double getUnrealFutPerGmiPl()
+		{
+			return zGetDouble(_storage, 556);
+		}
+
+		public void setUnrealFutPerGmiPl(double value)
+		{
+			zSetDouble(_storage, value, 556, 8, 16);
+		}
+
+		public double getUnstldFwdPl()
+		{
+			return zGetDouble(_storage, 564);
+		}
+
+		public void setUnstldFwdPl(double value)
+		{
+			zSetDouble(_storage, value, 564, 8, 17);
+		}
+
+		public double getUnstldRwPl()
+		{
+			return zGetDouble(_storage, 572);
+		}
+
+		public void setUnstldRwPl(double value)
+		{
+			zSetDouble(_storage, value, 572, 8, 18);
+		}
+
+		public double getValuationAdj()
+		{
+			return zGetDouble(_storage, 580);
+		}
+
+		public void setValuationAdj(double value)
+		{
+			zSetDouble(_storage, value, 580, 8, 19);
+		}
+
+		public void setProdStkPxNull()
+		{
+			zSetNull(_storage, 8, 5);
+		}
+
+		public void setProdFutCntrctSizeNull()
+		{
+			zSetNull(_storage, 8, 3);
+		}
+
+		public void setProductUnderlierReferenceIdNull()
+		{
+			zSetNull(_storage, 8, 8);
+		}
+
+		public void setProdRelHostNull()
+		{
+			zSetNull(_storage, 8, 4);
+		}
+
+		public void setProdUndrlrPxNull()
+		{
+			zSetNull(_storage, 8, 7);
+		}
+
+		public void setPositionQuantityNull()
+		{
+			zSetNull(_storage, 8, 2);
+		}
+
+		public void setPosMktvlBaseNull()
+		{
+			zSetNull(_storage, 4, 30);
+		}
+
+		public void setPosCostBaseNull()
+		{
+			zSetNull(_storage, 4, 29);
+		}
+
+		public void setPosAccrIntBaseNull()
+		{
+			zSetNull(_storage, 4, 28);
+		}
+
+		public void setPosPurchIntBaseNull()
+		{
+			zSetNull(_storage, 8, 0);
+		}
+
+		public void setPosNotvlBaseNull()
+		{
+			zSetNull(_storage, 4, 31);
+		}
+
+		public void setContractualNpvNull()
+		{
+			zSetNull(_storage, 4, 3);
+		}
+
+		public void setUnstldRwPlNull()
+		{
+			zSetNull(_storage, 8, 18);
+		}
+
+		public void setUnstldFwdPlNull()
+		{
+			zSetNull(_storage, 8, 17);
+		}
+
+		public void setUnrealFutPerGmiPlNull()
+		{
+			zSetNull(_storage, 8, 16);
+		}
+
+		public void setFairValAdjNull()
+		{
+			zSetNull(_storage, 4, 4);
+		}
+
+		public void setAdjTdUnstldFutPlNull()
+		{
+			zSetNull(_storage, 4, 2);
+		}
+
+		public void setValuationAdjNull()
+		{
+			zSetNull(_storage, 8, 19);
+		}
+
+		public void setAccrDivNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public void setOtherTdAdjNull()
+		{
+			zSetNull(_storage, 4, 25);
+		}
+
+		public void setFxRevalAdjNull()
+		{
+			zSetNull(_storage, 4, 10);
+		}
+
+		public void setAdjSdResrvUnrealPlNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public void setSdFxUnrealPlNull()
+		{
+			zSetNull(_storage, 8, 11);
+		}
+
+		public void setTotUnrealPlNull()
+		{
+			zSetNull(_storage, 8, 15);
+		}
+
+		public void setPmeTotUnrealPlNull()
+		{
+			zSetNull(_storage, 4, 27);
+		}
+
+		public void setMtdIntIncmNull()
+		{
+			zSetNull(_storage, 4, 15);
+		}
+
+		public void setMtdIntXpnsNull()
+		{
+			zSetNull(_storage, 4, 16);
+		}
+
+		public void setPendingCashNull()
+		{
+			zSetNull(_storage, 4, 26);
+		}
+
+		public void setMtdRealTradingPlNull()
+		{
+			zSetNull(_storage, 4, 18);
+		}
+
+		public void setOtherAdjCntrlTotNull()
+		{
+			zSetNull(_storage, 4, 24);
+		}
+
+		public void setSettledCashNull()
+		{
+			zSetNull(_storage, 8, 13);
+		}
+
+		public void setFxPerStockRecNull()
+		{
+			zSetNull(_storage, 4, 9);
+		}
+
+		public void setMtdDivIncmNull()
+		{
+			zSetNull(_storage, 4, 14);
+		}
+
+		public void setMtdTransferTaxNull()
+		{
+			zSetNull(_storage, 4, 21);
+		}
+
+		public void setTlewTrialChangeNull()
+		{
+			zSetNull(_storage, 8, 14);
+		}
+
+		public void setOffsetPayRecvNull()
+		{
+			zSetNull(_storage, 4, 22);
+		}
+
+		public void setSegregatedCashNull()
+		{
+			zSetNull(_storage, 8, 12);
+		}
+
+		public void setPosXrateNull()
+		{
+			zSetNull(_storage, 8, 1);
+		}
+
+		public void setRegCostBaseNull()
+		{
+			zSetNull(_storage, 8, 9);
+		}
+
+		public void setFwdCostBaseNull()
+		{
+			zSetNull(_storage, 4, 5);
+		}
+
+		public void setRegQtyNull()
+		{
+			zSetNull(_storage, 8, 10);
+		}
+
+		public void setFwdQtyNull()
+		{
+			zSetNull(_storage, 4, 7);
+		}
+
+		public void setGaapTdMktvlBaseNull()
+		{
+			zSetNull(_storage, 4, 11);
+		}
+
+		public void setOpenIntBaseNull()
+		{
+			zSetNull(_storage, 4, 23);
+		}
+
+		public void setMtdSdUnrealNull()
+		{
+			zSetNull(_storage, 4, 19);
+		}
+
+		public void setFwdQtyGt30Null()
+		{
+			zSetNull(_storage, 4, 8);
+		}
+
+		public void setFwdCostGt30BaseNull()
+		{
+			zSetNull(_storage, 4, 6);
+		}
+
+		public void setProdUndrClassNull()
+		{
+			zSetNull(_storage, 8, 6);
+		}
+
+		public void setGmiUnrealNull()
+		{
+			zSetNull(_storage, 4, 12);
+		}
+
+		public void setMtdTdUnrealNull()
+		{
+			zSetNull(_storage, 4, 20);
+		}
+
+		public void setLtdLcmTdUnrealNull()
+		{
+			zSetNull(_storage, 4, 13);
+		}
+
+		public void setMtdLcmTdUnrealNull()
+		{
+			zSetNull(_storage, 4, 17);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TlewTrialDataOnHeap copy, boolean withRelationships)
+		{
+			copy.accountDescription = this.getAccountDescription();
+			copy.accountNumber = this.getAccountNumber();
+			copy.accountTypeB = this.getAccountTypeB();
+			copy.accountTypeC = this.getAccountTypeC();
+			copy.accrDiv = this.getAccrDiv();
+			copy.acctId = this.getAcctId();
+			copy.activeMtdRec = this.getActiveMtdRec();
+			copy.adjSdResrvUnrealPl = this.getAdjSdResrvUnrealPl();
+			copy.adjTdUnstldFutPl = this.getAdjTdUnstldFutPl();
+			copy.baseCurrency = this.getBaseCurrency();
+			copy.busDate = this.getBusDate();
+			copy.carryCharge = this.getCarryCharge();
+			copy.carryRebate = this.getCarryRebate();
+			copy.carryTransferFlag = this.getCarryTransferFlag();
+			copy.contractualNpv = this.getContractualNpv();
+			copy.fairValAdj = this.getFairValAdj();
+			copy.fwdCostBase = this.getFwdCostBase();
+			copy.fwdCostGt30Base = this.getFwdCostGt30Base();
+			copy.fwdQty = this.getFwdQty();
+			copy.fwdQtyGt30 = this.getFwdQtyGt30();
+			copy.fxPerStockRec = this.getFxPerStockRec();
+			copy.fxRevalAdj = this.getFxRevalAdj();
+			copy.gaapTdMktvlBase = this.getGaapTdMktvlBase();
+			copy.gmiUnreal = this.getGmiUnreal();
+			copy.instrument = this.getInstrument();
+			copy.instrumentSubType = this.getInstrumentSubType();
+			copy.instrumentType = this.getInstrumentType();
+			copy.legalEntity = this.getLegalEntity();
+			copy.localCurrTime = this.getLocalCurrTime();
+			copy.ltdLcmTdUnreal = this.getLtdLcmTdUnreal();
+			copy.ltdSdUnreal = this.getLtdSdUnreal();
+			copy.mtdDivIncm = this.getMtdDivIncm();
+			copy.mtdIntIncm = this.getMtdIntIncm();
+			copy.mtdIntXpns = this.getMtdIntXpns();
+			copy.mtdLcmTdUnreal = this.getMtdLcmTdUnreal();
+			copy.mtdRealTradingPl = this.getMtdRealTradingPl();
+			copy.mtdSdUnreal = this.getMtdSdUnreal();
+			copy.mtdTdUnreal = this.getMtdTdUnreal();
+			copy.mtdTransferTax = this.getMtdTransferTax();
+			copy.offsetPayRecv = this.getOffsetPayRecv();
+			copy.openIntBase = this.getOpenIntBase();
+			copy.otherAdjCntrlTot = this.getOtherAdjCntrlTot();
+			copy.otherTdAdj = this.getOtherTdAdj();
+			copy.paraProdType = this.getParaProdType();
+			copy.pendingCash = this.getPendingCash();
+			copy.pmeTotUnrealPl = this.getPmeTotUnrealPl();
+			copy.posAccrIntBase = this.getPosAccrIntBase();
+			copy.posCostBase = this.getPosCostBase();
+			copy.posMktvlBase = this.getPosMktvlBase();
+			copy.posNotvlBase = this.getPosNotvlBase();
+			copy.posPurchIntBase = this.getPosPurchIntBase();
+			copy.posXrate = this.getPosXrate();
+			copy.positionQuantity = this.getPositionQuantity();
+			copy.positionType = this.getPositionType();
+			copy.primaryIncomeFunction = this.getPrimaryIncomeFunction();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.prodFutCntrctSize = this.getProdFutCntrctSize();
+			copy.prodGlobalClass = this.getProdGlobalClass();
+			copy.prodRelHost = this.getProdRelHost();
+			copy.prodScrpBsPostClass = this.getProdScrpBsPostClass();
+			copy.prodScrpPlPostClass = this.getProdScrpPlPostClass();
+			copy.prodStkPx = this.getProdStkPx();
+			copy.prodSyn = this.getProdSyn();
+			copy.prodType = this.getProdType();
+			copy.prodUndrClass = this.getProdUndrClass();
+			copy.prodUndrlrPx = this.getProdUndrlrPx();
+			copy.prodXplRltn = this.getProdXplRltn();
+			copy.productDescription = this.getProductDescription();
+			copy.productIssueCountry = this.getProductIssueCountry();
+			copy.productIssueCurrency = this.getProductIssueCurrency();
+			copy.productMaturityDate = this.getProductMaturityDate();
+			copy.productPrimaryMarket = this.getProductPrimaryMarket();
+			copy.productProfile = this.getProductProfile();
+			copy.productUnderlierReferenceId = this.getProductUnderlierReferenceId();
+			copy.regCostBase = this.getRegCostBase();
+			copy.regQty = this.getRegQty();
+			copy.sdFxUnrealPl = this.getSdFxUnrealPl();
+			copy.segregatedCash = this.getSegregatedCash();
+			copy.settledCash = this.getSettledCash();
+			copy.tlewTrialChange = this.getTlewTrialChange();
+			copy.tlewTrialCreate = this.getTlewTrialCreate();
+			copy.totUnrealPl = this.getTotUnrealPl();
+			copy.trial = this.getTrial();
+			copy.unrealFutPerGmiPl = this.getUnrealFutPerGmiPl();
+			copy.unstldFwdPl = this.getUnstldFwdPl();
+			copy.unstldRwPl = this.getUnstldRwPl();
+			copy.valuationAdj = this.getValuationAdj();
+			if (isProdStkPxNull())
+			{
+				copy.setProdStkPxNull();
+			}
+
+			if (isProdFutCntrctSizeNull())
+			{
+				copy.setProdFutCntrctSizeNull();
+			}
+
+			if (isProductUnderlierReferenceIdNull())
+			{
+				copy.setProductUnderlierReferenceIdNull();
+			}
+
+			if (isProdRelHostNull())
+			{
+				copy.setProdRelHostNull();
+			}
+
+			if (isProdUndrlrPxNull())
+			{
+				copy.setProdUndrlrPxNull();
+			}
+
+			if (isPositionQuantityNull())
+			{
+				copy.setPositionQuantityNull();
+			}
+
+			if (isPosMktvlBaseNull())
+			{
+				copy.setPosMktvlBaseNull();
+			}
+
+			if (isPosCostBaseNull())
+			{
+				copy.setPosCostBaseNull();
+			}
+
+			if (isPosAccrIntBaseNull())
+			{
+				copy.setPosAccrIntBaseNull();
+			}
+
+			if (isPosPurchIntBaseNull())
+			{
+				copy.setPosPurchIntBaseNull();
+			}
+
+			if (isPosNotvlBaseNull())
+			{
+				copy.setPosNotvlBaseNull();
+			}
+
+			if (isContractualNpvNull())
+			{
+				copy.setContractualNpvNull();
+			}
+
+			if (isUnstldRwPlNull())
+			{
+				copy.setUnstldRwPlNull();
+			}
+
+			if (isUnstldFwdPlNull())
+			{
+				copy.setUnstldFwdPlNull();
+			}
+
+			if (isUnrealFutPerGmiPlNull())
+			{
+				copy.setUnrealFutPerGmiPlNull();
+			}
+
+			if (isFairValAdjNull())
+			{
+				copy.setFairValAdjNull();
+			}
+
+			if (isAdjTdUnstldFutPlNull())
+			{
+				copy.setAdjTdUnstldFutPlNull();
+			}
+
+			if (isValuationAdjNull())
+			{
+				copy.setValuationAdjNull();
+			}
+
+			if (isAccrDivNull())
+			{
+				copy.setAccrDivNull();
+			}
+
+			if (isOtherTdAdjNull())
+			{
+				copy.setOtherTdAdjNull();
+			}
+
+			if (isFxRevalAdjNull())
+			{
+				copy.setFxRevalAdjNull();
+			}
+
+			if (isAdjSdResrvUnrealPlNull())
+			{
+				copy.setAdjSdResrvUnrealPlNull();
+			}
+
+			if (isSdFxUnrealPlNull())
+			{
+				copy.setSdFxUnrealPlNull();
+			}
+
+			if (isTotUnrealPlNull())
+			{
+				copy.setTotUnrealPlNull();
+			}
+
+			if (isPmeTotUnrealPlNull())
+			{
+				copy.setPmeTotUnrealPlNull();
+			}
+
+			if (isMtdIntIncmNull())
+			{
+				copy.setMtdIntIncmNull();
+			}
+
+			if (isMtdIntXpnsNull())
+			{
+				copy.setMtdIntXpnsNull();
+			}
+
+			if (isPendingCashNull())
+			{
+				copy.setPendingCashNull();
+			}
+
+			if (isMtdRealTradingPlNull())
+			{
+				copy.setMtdRealTradingPlNull();
+			}
+
+			if (isOtherAdjCntrlTotNull())
+			{
+				copy.setOtherAdjCntrlTotNull();
+			}
+
+			if (isSettledCashNull())
+			{
+				copy.setSettledCashNull();
+			}
+
+			if (isFxPerStockRecNull())
+			{
+				copy.setFxPerStockRecNull();
+			}
+
+			if (isMtdDivIncmNull())
+			{
+				copy.setMtdDivIncmNull();
+			}
+
+			if (isMtdTransferTaxNull())
+			{
+				copy.setMtdTransferTaxNull();
+			}
+
+			if (isTlewTrialChangeNull())
+			{
+				copy.setTlewTrialChangeNull();
+			}
+
+			if (isOffsetPayRecvNull())
+			{
+				copy.setOffsetPayRecvNull();
+			}
+
+			if (isSegregatedCashNull())
+			{
+				copy.setSegregatedCashNull();
+			}
+
+			if (isPosXrateNull())
+			{
+				copy.setPosXrateNull();
+			}
+
+			if (isRegCostBaseNull())
+			{
+				copy.setRegCostBaseNull();
+			}
+
+			if (isFwdCostBaseNull())
+			{
+				copy.setFwdCostBaseNull();
+			}
+
+			if (isRegQtyNull())
+			{
+				copy.setRegQtyNull();
+			}
+
+			if (isFwdQtyNull())
+			{
+				copy.setFwdQtyNull();
+			}
+
+			if (isGaapTdMktvlBaseNull())
+			{
+				copy.setGaapTdMktvlBaseNull();
+			}
+
+			if (isOpenIntBaseNull())
+			{
+				copy.setOpenIntBaseNull();
+			}
+
+			if (isMtdSdUnrealNull())
+			{
+				copy.setMtdSdUnrealNull();
+			}
+
+			if (isFwdQtyGt30Null())
+			{
+				copy.setFwdQtyGt30Null();
+			}
+
+			if (isFwdCostGt30BaseNull())
+			{
+				copy.setFwdCostGt30BaseNull();
+			}
+
+			if (isProdUndrClassNull())
+			{
+				copy.setProdUndrClassNull();
+			}
+
+			if (isGmiUnrealNull())
+			{
+				copy.setGmiUnrealNull();
+			}
+
+			if (isMtdTdUnrealNull())
+			{
+				copy.setMtdTdUnrealNull();
+			}
+
+			if (isLtdLcmTdUnrealNull())
+			{
+				copy.setLtdLcmTdUnrealNull();
+			}
+
+			if (isMtdLcmTdUnrealNull())
+			{
+				copy.setMtdLcmTdUnrealNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			long isNullBits0 = in.readLong();
+			zSetString(_storage, (String)in.readObject(), 24);
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetInteger(_storage, in.readInt(), 32, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 36);
+			zSetDouble(_storage, in.readDouble(), 40, 4, 0, (isNullBits0 & 1 << 18) != 0 );
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetShort(_storage, in.readShort(), 48, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 50, 4, 1, (isNullBits0 & 1 << 21) != 0 );
+			zSetDouble(_storage, in.readDouble(), 58, 4, 2, (isNullBits0 & 1 << 16) != 0 );
+			zSetString(_storage, (String)in.readObject(), 66);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 70);
+			zSetDouble(_storage, in.readDouble(), 78, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 86, -1, -1, false);
+			zSetShort(_storage, in.readShort(), 94, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 96, 4, 3, (isNullBits0 & 1 << 11) != 0 );
+			zSetDouble(_storage, in.readDouble(), 104, 4, 4, (isNullBits0 & 1 << 15) != 0 );
+			zSetDouble(_storage, in.readDouble(), 112, 4, 5, (isNullBits0 & 1L << 39) != 0 );
+			zSetDouble(_storage, in.readDouble(), 120, 4, 6, (isNullBits0 & 1L << 46) != 0 );
+			zSetDouble(_storage, in.readDouble(), 128, 4, 7, (isNullBits0 & 1L << 41) != 0 );
+			zSetDouble(_storage, in.readDouble(), 136, 4, 8, (isNullBits0 & 1L << 45) != 0 );
+			zSetDouble(_storage, in.readDouble(), 144, 4, 9, (isNullBits0 & 1L << 31) != 0 );
+			zSetDouble(_storage, in.readDouble(), 152, 4, 10, (isNullBits0 & 1 << 20) != 0 );
+			zSetDouble(_storage, in.readDouble(), 160, 4, 11, (isNullBits0 & 1L << 42) != 0 );
+			zSetDouble(_storage, in.readDouble(), 168, 4, 12, (isNullBits0 & 1L << 48) != 0 );
+			zSetInteger(_storage, in.readInt(), 16, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 176);
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 180, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 184);
+			zSetDouble(_storage, in.readDouble(), 192, 4, 13, (isNullBits0 & 1L << 50) != 0 );
+			zSetDouble(_storage, in.readDouble(), 200, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 208, 4, 14, (isNullBits0 & 1L << 32) != 0 );
+			zSetDouble(_storage, in.readDouble(), 216, 4, 15, (isNullBits0 & 1 << 25) != 0 );
+			zSetDouble(_storage, in.readDouble(), 224, 4, 16, (isNullBits0 & 1 << 26) != 0 );
+			zSetDouble(_storage, in.readDouble(), 232, 4, 17, (isNullBits0 & 1L << 51) != 0 );
+			zSetDouble(_storage, in.readDouble(), 240, 4, 18, (isNullBits0 & 1 << 28) != 0 );
+			zSetDouble(_storage, in.readDouble(), 248, 4, 19, (isNullBits0 & 1L << 44) != 0 );
+			zSetDouble(_storage, in.readDouble(), 256, 4, 20, (isNullBits0 & 1L << 49) != 0 );
+			zSetDouble(_storage, in.readDouble(), 264, 4, 21, (isNullBits0 & 1L << 33) != 0 );
+			zSetDouble(_storage, in.readDouble(), 272, 4, 22, (isNullBits0 & 1L << 35) != 0 );
+			zSetDouble(_storage, in.readDouble(), 280, 4, 23, (isNullBits0 & 1L << 43) != 0 );
+			zSetDouble(_storage, in.readDouble(), 288, 4, 24, (isNullBits0 & 1 << 29) != 0 );
+			zSetDouble(_storage, in.readDouble(), 296, 4, 25, (isNullBits0 & 1 << 19) != 0 );
+			zSetString(_storage, (String)in.readObject(), 304);
+			zSetDouble(_storage, in.readDouble(), 308, 4, 26, (isNullBits0 & 1 << 27) != 0 );
+			zSetDouble(_storage, in.readDouble(), 316, 4, 27, (isNullBits0 & 1 << 24) != 0 );
+			zSetDouble(_storage, in.readDouble(), 324, 4, 28, (isNullBits0 & 1 << 8) != 0 );
+			zSetDouble(_storage, in.readDouble(), 332, 4, 29, (isNullBits0 & 1 << 7) != 0 );
+			zSetDouble(_storage, in.readDouble(), 340, 4, 30, (isNullBits0 & 1 << 6) != 0 );
+			zSetDouble(_storage, in.readDouble(), 348, 4, 31, (isNullBits0 & 1 << 10) != 0 );
+			zSetDouble(_storage, in.readDouble(), 356, 8, 0, (isNullBits0 & 1 << 9) != 0 );
+			zSetDouble(_storage, in.readDouble(), 364, 8, 1, (isNullBits0 & 1L << 37) != 0 );
+			zSetDouble(_storage, in.readDouble(), 372, 8, 2, (isNullBits0 & 1 << 5) != 0 );
+			zSetString(_storage, (String)in.readObject(), 380);
+			zSetString(_storage, (String)in.readObject(), 384);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 388);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 396);
+			zSetDouble(_storage, in.readDouble(), 404, 8, 3, (isNullBits0 & 1 << 1) != 0 );
+			zSetLong(_storage, in.readLong(), 412, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 420, 8, 4, (isNullBits0 & 1 << 3) != 0 );
+			zSetString(_storage, (String)in.readObject(), 428);
+			zSetString(_storage, (String)in.readObject(), 432);
+			zSetDouble(_storage, in.readDouble(), 436, 8, 5, (isNullBits0 & 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 444);
+			zSetString(_storage, (String)in.readObject(), 448);
+			zSetInteger(_storage, in.readInt(), 452, 8, 6, (isNullBits0 & 1L << 47) != 0 );
+			zSetDouble(_storage, in.readDouble(), 456, 8, 7, (isNullBits0 & 1 << 4) != 0 );
+			zSetString(_storage, (String)in.readObject(), 464);
+			zSetString(_storage, (String)in.readObject(), 468);
+			zSetString(_storage, (String)in.readObject(), 472);
+			zSetString(_storage, (String)in.readObject(), 476);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 480);
+			zSetString(_storage, (String)in.readObject(), 488);
+			zSetString(_storage, (String)in.readObject(), 492);
+			zSetInteger(_storage, in.readInt(), 496, 8, 8, (isNullBits0 & 1 << 2) != 0 );
+			zSetDouble(_storage, in.readDouble(), 500, 8, 9, (isNullBits0 & 1L << 38) != 0 );
+			zSetDouble(_storage, in.readDouble(), 508, 8, 10, (isNullBits0 & 1L << 40) != 0 );
+			zSetDouble(_storage, in.readDouble(), 516, 8, 11, (isNullBits0 & 1 << 22) != 0 );
+			zSetDouble(_storage, in.readDouble(), 524, 8, 12, (isNullBits0 & 1L << 36) != 0 );
+			zSetDouble(_storage, in.readDouble(), 532, 8, 13, (isNullBits0 & 1 << 30) != 0 );
+			zSetShort(_storage, in.readShort(), 540, 8, 14, (isNullBits0 & 1L << 34) != 0 );
+			zSetShort(_storage, in.readShort(), 542, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 544, 8, 15, (isNullBits0 & 1 << 23) != 0 );
+			zSetString(_storage, (String)in.readObject(), 552);
+			zSetDouble(_storage, in.readDouble(), 556, 8, 16, (isNullBits0 & 1 << 14) != 0 );
+			zSetDouble(_storage, in.readDouble(), 564, 8, 17, (isNullBits0 & 1 << 13) != 0 );
+			zSetDouble(_storage, in.readDouble(), 572, 8, 18, (isNullBits0 & 1 << 12) != 0 );
+			zSetDouble(_storage, in.readDouble(), 580, 8, 19, (isNullBits0 & 1 << 17) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TlewTrialDataOffHeap)
+			{
+				final TlewTrialDataOffHeap otherData = (TlewTrialDataOffHeap) other;
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 16) != otherData.zGetInteger(_storage, 16))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 20) != otherData.zGetInteger(_storage, 20))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TlewTrialData otherData = (TlewTrialData) other;
+			if (getAcctId() != otherData.getAcctId())
+			{
+				return false;
+			}
+
+			if (getInstrument() != otherData.getInstrument())
+			{
+				return false;
+			}
+
+			if (!isInstrumentTypeNull() ? !getInstrumentType().equals(otherData.getInstrumentType()) : !otherData.isInstrumentTypeNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getAcctId());
+			out.writeInt(this.getInstrument());
+			out.writeObject(this.getInstrumentType());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), TlewTrialFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 16, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 388);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 396);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TlewTrialData tlewTrialData = (TlewTrialData) newData;
+			this.setAccountDescription(tlewTrialData.getAccountDescription());
+			this.setAccountNumber(tlewTrialData.getAccountNumber());
+			this.setAccountTypeB(tlewTrialData.getAccountTypeB());
+			this.setAccountTypeC(tlewTrialData.getAccountTypeC());
+			this.setAccrDiv(tlewTrialData.getAccrDiv());
+			if (tlewTrialData.isAccrDivNull()) this.setAccrDivNull();
+			this.setActiveMtdRec(tlewTrialData.getActiveMtdRec());
+			this.setAdjSdResrvUnrealPl(tlewTrialData.getAdjSdResrvUnrealPl());
+			if (tlewTrialData.isAdjSdResrvUnrealPlNull()) this.setAdjSdResrvUnrealPlNull();
+			this.setAdjTdUnstldFutPl(tlewTrialData.getAdjTdUnstldFutPl());
+			if (tlewTrialData.isAdjTdUnstldFutPlNull()) this.setAdjTdUnstldFutPlNull();
+			this.setBaseCurrency(tlewTrialData.getBaseCurrency());
+			this.setBusDate(tlewTrialData.getBusDate());
+			this.setCarryCharge(tlewTrialData.getCarryCharge());
+			this.setCarryRebate(tlewTrialData.getCarryRebate());
+			this.setCarryTransferFlag(tlewTrialData.getCarryTransferFlag());
+			this.setContractualNpv(tlewTrialData.getContractualNpv());
+			if (tlewTrialData.isContractualNpvNull()) this.setContractualNpvNull();
+			this.setFairValAdj(tlewTrialData.getFairValAdj());
+			if (tlewTrialData.isFairValAdjNull()) this.setFairValAdjNull();
+			this.setFwdCostBase(tlewTrialData.getFwdCostBase());
+			if (tlewTrialData.isFwdCostBaseNull()) this.setFwdCostBaseNull();
+			this.setFwdCostGt30Base(tlewTrialData.getFwdCostGt30Base());
+			if (tlewTrialData.isFwdCostGt30BaseNull()) this.setFwdCostGt30BaseNull();
+			this.setFwdQty(tlewTrialData.getFwdQty());
+			if (tlewTrialData.isFwdQtyNull()) this.setFwdQtyNull();
+			this.setFwdQtyGt30(tlewTrialData.getFwdQtyGt30());
+			if (tlewTrialData.isFwdQtyGt30Null()) this.setFwdQtyGt30Null();
+			this.setFxPerStockRec(tlewTrialData.getFxPerStockRec());
+			if (tlewTrialData.isFxPerStockRecNull()) this.setFxPerStockRecNull();
+			this.setFxRevalAdj(tlewTrialData.getFxRevalAdj());
+			if (tlewTrialData.isFxRevalAdjNull()) this.setFxRevalAdjNull();
+			this.setGaapTdMktvlBase(tlewTrialData.getGaapTdMktvlBase());
+			if (tlewTrialData.isGaapTdMktvlBaseNull()) this.setGaapTdMktvlBaseNull();
+			this.setGmiUnreal(tlewTrialData.getGmiUnreal());
+			if (tlewTrialData.isGmiUnrealNull()) this.setGmiUnrealNull();
+			this.setInstrumentSubType(tlewTrialData.getInstrumentSubType());
+			this.setLegalEntity(tlewTrialData.getLegalEntity());
+			this.setLocalCurrTime(tlewTrialData.getLocalCurrTime());
+			this.setLtdLcmTdUnreal(tlewTrialData.getLtdLcmTdUnreal());
+			if (tlewTrialData.isLtdLcmTdUnrealNull()) this.setLtdLcmTdUnrealNull();
+			this.setLtdSdUnreal(tlewTrialData.getLtdSdUnreal());
+			this.setMtdDivIncm(tlewTrialData.getMtdDivIncm());
+			if (tlewTrialData.isMtdDivIncmNull()) this.setMtdDivIncmNull();
+			this.setMtdIntIncm(tlewTrialData.getMtdIntIncm());
+			if (tlewTrialData.isMtdIntIncmNull()) this.setMtdIntIncmNull();
+			this.setMtdIntXpns(tlewTrialData.getMtdIntXpns());
+			if (tlewTrialData.isMtdIntXpnsNull()) this.setMtdIntXpnsNull();
+			this.setMtdLcmTdUnreal(tlewTrialData.getMtdLcmTdUnreal());
+			if (tlewTrialData.isMtdLcmTdUnrealNull()) this.setMtdLcmTdUnrealNull();
+			this.setMtdRealTradingPl(tlewTrialData.getMtdRealTradingPl());
+			if (tlewTrialData.isMtdRealTradingPlNull()) this.setMtdRealTradingPlNull();
+			this.setMtdSdUnreal(tlewTrialData.getMtdSdUnreal());
+			if (tlewTrialData.isMtdSdUnrealNull()) this.setMtdSdUnrealNull();
+			this.setMtdTdUnreal(tlewTrialData.getMtdTdUnreal());
+			if (tlewTrialData.isMtdTdUnrealNull()) this.setMtdTdUnrealNull();
+			this.setMtdTransferTax(tlewTrialData.getMtdTransferTax());
+			if (tlewTrialData.isMtdTransferTaxNull()) this.setMtdTransferTaxNull();
+			this.setOffsetPayRecv(tlewTrialData.getOffsetPayRecv());
+			if (tlewTrialData.isOffsetPayRecvNull()) this.setOffsetPayRecvNull();
+			this.setOpenIntBase(tlewTrialData.getOpenIntBase());
+			if (tlewTrialData.isOpenIntBaseNull()) this.setOpenIntBaseNull();
+			this.setOtherAdjCntrlTot(tlewTrialData.getOtherAdjCntrlTot());
+			if (tlewTrialData.isOtherAdjCntrlTotNull()) this.setOtherAdjCntrlTotNull();
+			this.setOtherTdAdj(tlewTrialData.getOtherTdAdj());
+			if (tlewTrialData.isOtherTdAdjNull()) this.setOtherTdAdjNull();
+			this.setParaProdType(tlewTrialData.getParaProdType());
+			this.setPendingCash(tlewTrialData.getPendingCash());
+			if (tlewTrialData.isPendingCashNull()) this.setPendingCashNull();
+			this.setPmeTotUnrealPl(tlewTrialData.getPmeTotUnrealPl());
+			if (tlewTrialData.isPmeTotUnrealPlNull()) this.setPmeTotUnrealPlNull();
+			this.setPosAccrIntBase(tlewTrialData.getPosAccrIntBase());
+			if (tlewTrialData.isPosAccrIntBaseNull()) this.setPosAccrIntBaseNull();
+			this.setPosCostBase(tlewTrialData.getPosCostBase());
+			if (tlewTrialData.isPosCostBaseNull()) this.setPosCostBaseNull();
+			this.setPosMktvlBase(tlewTrialData.getPosMktvlBase());
+			if (tlewTrialData.isPosMktvlBaseNull()) this.setPosMktvlBaseNull();
+			this.setPosNotvlBase(tlewTrialData.getPosNotvlBase());
+			if (tlewTrialData.isPosNotvlBaseNull()) this.setPosNotvlBaseNull();
+			this.setPosPurchIntBase(tlewTrialData.getPosPurchIntBase());
+			if (tlewTrialData.isPosPurchIntBaseNull()) this.setPosPurchIntBaseNull();
+			this.setPosXrate(tlewTrialData.getPosXrate());
+			if (tlewTrialData.isPosXrateNull()) this.setPosXrateNull();
+			this.setPositionQuantity(tlewTrialData.getPositionQuantity());
+			if (tlewTrialData.isPositionQuantityNull()) this.setPositionQuantityNull();
+			this.setPositionType(tlewTrialData.getPositionType());
+			this.setPrimaryIncomeFunction(tlewTrialData.getPrimaryIncomeFunction());
+			this.setProcessingDateFrom(tlewTrialData.getProcessingDateFrom());
+			this.setProcessingDateTo(tlewTrialData.getProcessingDateTo());
+			this.setProdFutCntrctSize(tlewTrialData.getProdFutCntrctSize());
+			if (tlewTrialData.isProdFutCntrctSizeNull()) this.setProdFutCntrctSizeNull();
+			this.setProdGlobalClass(tlewTrialData.getProdGlobalClass());
+			this.setProdRelHost(tlewTrialData.getProdRelHost());
+			if (tlewTrialData.isProdRelHostNull()) this.setProdRelHostNull();
+			this.setProdScrpBsPostClass(tlewTrialData.getProdScrpBsPostClass());
+			this.setProdScrpPlPostClass(tlewTrialData.getProdScrpPlPostClass());
+			this.setProdStkPx(tlewTrialData.getProdStkPx());
+			if (tlewTrialData.isProdStkPxNull()) this.setProdStkPxNull();
+			this.setProdSyn(tlewTrialData.getProdSyn());
+			this.setProdType(tlewTrialData.getProdType());
+			this.setProdUndrClass(tlewTrialData.getProdUndrClass());
+			if (tlewTrialData.isProdUndrClassNull()) this.setProdUndrClassNull();
+			this.setProdUndrlrPx(tlewTrialData.getProdUndrlrPx());
+			if (tlewTrialData.isProdUndrlrPxNull()) this.setProdUndrlrPxNull();
+			this.setProdXplRltn(tlewTrialData.getProdXplRltn());
+			this.setProductDescription(tlewTrialData.getProductDescription());
+			this.setProductIssueCountry(tlewTrialData.getProductIssueCountry());
+			this.setProductIssueCurrency(tlewTrialData.getProductIssueCurrency());
+			this.setProductMaturityDate(tlewTrialData.getProductMaturityDate());
+			this.setProductPrimaryMarket(tlewTrialData.getProductPrimaryMarket());
+			this.setProductProfile(tlewTrialData.getProductProfile());
+			this.setProductUnderlierReferenceId(tlewTrialData.getProductUnderlierReferenceId());
+			if (tlewTrialData.isProductUnderlierReferenceIdNull()) this.setProductUnderlierReferenceIdNull();
+			this.setRegCostBase(tlewTrialData.getRegCostBase());
+			if (tlewTrialData.isRegCostBaseNull()) this.setRegCostBaseNull();
+			this.setRegQty(tlewTrialData.getRegQty());
+			if (tlewTrialData.isRegQtyNull()) this.setRegQtyNull();
+			this.setSdFxUnrealPl(tlewTrialData.getSdFxUnrealPl());
+			if (tlewTrialData.isSdFxUnrealPlNull()) this.setSdFxUnrealPlNull();
+			this.setSegregatedCash(tlewTrialData.getSegregatedCash());
+			if (tlewTrialData.isSegregatedCashNull()) this.setSegregatedCashNull();
+			this.setSettledCash(tlewTrialData.getSettledCash());
+			if (tlewTrialData.isSettledCashNull()) this.setSettledCashNull();
+			this.setTlewTrialChange(tlewTrialData.getTlewTrialChange());
+			if (tlewTrialData.isTlewTrialChangeNull()) this.setTlewTrialChangeNull();
+			this.setTlewTrialCreate(tlewTrialData.getTlewTrialCreate());
+			this.setTotUnrealPl(tlewTrialData.getTotUnrealPl());
+			if (tlewTrialData.isTotUnrealPlNull()) this.setTotUnrealPlNull();
+			this.setTrial(tlewTrialData.getTrial());
+			this.setUnrealFutPerGmiPl(tlewTrialData.getUnrealFutPerGmiPl());
+			if (tlewTrialData.isUnrealFutPerGmiPlNull()) this.setUnrealFutPerGmiPlNull();
+			this.setUnstldFwdPl(tlewTrialData.getUnstldFwdPl());
+			if (tlewTrialData.isUnstldFwdPlNull()) this.setUnstldFwdPlNull();
+			this.setUnstldRwPl(tlewTrialData.getUnstldRwPl());
+			if (tlewTrialData.isUnstldRwPlNull()) this.setUnstldRwPlNull();
+			this.setValuationAdj(tlewTrialData.getValuationAdj());
+			if (tlewTrialData.isValuationAdjNull()) this.setValuationAdjNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TlewTrialData other = (TlewTrialData) newData;
+			if (!isAccountDescriptionNull() ? !getAccountDescription().equals(other.getAccountDescription()) : !other.isAccountDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isAccountNumberNull() ? !getAccountNumber().equals(other.getAccountNumber()) : !other.isAccountNumberNull())
+			{
+				return true;
+			}
+
+			if ( getAccountTypeB() != other.getAccountTypeB())
+			{
+				return true;
+			}
+
+			if (!isAccountTypeCNull() ? !getAccountTypeC().equals(other.getAccountTypeC()) : !other.isAccountTypeCNull())
+			{
+				return true;
+			}
+
+			if ( isAccrDivNull() != other.isAccrDivNull() || Math.abs(getAccrDiv() - other.getAccrDiv()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getActiveMtdRec() != other.getActiveMtdRec())
+			{
+				return true;
+			}
+
+			if ( isAdjSdResrvUnrealPlNull() != other.isAdjSdResrvUnrealPlNull() || Math.abs(getAdjSdResrvUnrealPl() - other.getAdjSdResrvUnrealPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isAdjTdUnstldFutPlNull() != other.isAdjTdUnstldFutPlNull() || Math.abs(getAdjTdUnstldFutPl() - other.getAdjTdUnstldFutPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isBaseCurrencyNull() ? !getBaseCurrency().equals(other.getBaseCurrency()) : !other.isBaseCurrencyNull())
+			{
+				return true;
+			}
+
+			if (!isBusDateNull() ? !getBusDate().equals(other.getBusDate()) : !other.isBusDateNull())
+			{
+				return true;
+			}
+
+			if ( Math.abs(getCarryCharge() - other.getCarryCharge()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( Math.abs(getCarryRebate() - other.getCarryRebate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getCarryTransferFlag() != other.getCarryTransferFlag())
+			{
+				return true;
+			}
+
+			if ( isContractualNpvNull() != other.isContractualNpvNull() || Math.abs(getContractualNpv() - other.getContractualNpv()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFairValAdjNull() != other.isFairValAdjNull() || Math.abs(getFairValAdj() - other.getFairValAdj()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFwdCostBaseNull() != other.isFwdCostBaseNull() || Math.abs(getFwdCostBase() - other.getFwdCostBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFwdCostGt30BaseNull() != other.isFwdCostGt30BaseNull() || Math.abs(getFwdCostGt30Base() - other.getFwdCostGt30Base()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFwdQtyNull() != other.isFwdQtyNull() || Math.abs(getFwdQty() - other.getFwdQty()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFwdQtyGt30Null() != other.isFwdQtyGt30Null() || Math.abs(getFwdQtyGt30() - other.getFwdQtyGt30()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFxPerStockRecNull() != other.isFxPerStockRecNull() || Math.abs(getFxPerStockRec() - other.getFxPerStockRec()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFxRevalAdjNull() != other.isFxRevalAdjNull() || Math.abs(getFxRevalAdj() - other.getFxRevalAdj()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isGaapTdMktvlBaseNull() != other.isGaapTdMktvlBaseNull() || Math.abs(getGaapTdMktvlBase() - other.getGaapTdMktvlBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isGmiUnrealNull() != other.isGmiUnrealNull() || Math.abs(getGmiUnreal() - other.getGmiUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isInstrumentSubTypeNull() ? !getInstrumentSubType().equals(other.getInstrumentSubType()) : !other.isInstrumentSubTypeNull())
+			{
+				return true;
+			}
+
+			if ( getLegalEntity() != other.getLegalEntity())
+			{
+				return true;
+			}
+
+			if (!isLocalCurrTimeNull() ? !getLocalCurrTime().equals(other.getLocalCurrTime()) : !other.isLocalCurrTimeNull())
+			{
+				return true;
+			}
+
+			if ( isLtdLcmTdUnrealNull() != other.isLtdLcmTdUnrealNull() || Math.abs(getLtdLcmTdUnreal() - other.getLtdLcmTdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( Math.abs(getLtdSdUnreal() - other.getLtdSdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdDivIncmNull() != other.isMtdDivIncmNull() || Math.abs(getMtdDivIncm() - other.getMtdDivIncm()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdIntIncmNull() != other.isMtdIntIncmNull() || Math.abs(getMtdIntIncm() - other.getMtdIntIncm()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdIntXpnsNull() != other.isMtdIntXpnsNull() || Math.abs(getMtdIntXpns() - other.getMtdIntXpns()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdLcmTdUnrealNull() != other.isMtdLcmTdUnrealNull() || Math.abs(getMtdLcmTdUnreal() - other.getMtdLcmTdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdRealTradingPlNull() != other.isMtdRealTradingPlNull() || Math.abs(getMtdRealTradingPl() - other.getMtdRealTradingPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdSdUnrealNull() != other.isMtdSdUnrealNull() || Math.abs(getMtdSdUnreal() - other.getMtdSdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdTdUnrealNull() != other.isMtdTdUnrealNull() || Math.abs(getMtdTdUnreal() - other.getMtdTdUnreal()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isMtdTransferTaxNull() != other.isMtdTransferTaxNull() || Math.abs(getMtdTransferTax() - other.getMtdTransferTax()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isOffsetPayRecvNull() != other.isOffsetPayRecvNull() || Math.abs(getOffsetPayRecv() - other.getOffsetPayRecv()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isOpenIntBaseNull() != other.isOpenIntBaseNull() || Math.abs(getOpenIntBase() - other.getOpenIntBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isOtherAdjCntrlTotNull() != other.isOtherAdjCntrlTotNull() || Math.abs(getOtherAdjCntrlTot() - other.getOtherAdjCntrlTot()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isOtherTdAdjNull() != other.isOtherTdAdjNull() || Math.abs(getOtherTdAdj() - other.getOtherTdAdj()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isParaProdTypeNull() ? !getParaProdType().equals(other.getParaProdType()) : !other.isParaProdTypeNull())
+			{
+				return true;
+			}
+
+			if ( isPendingCashNull() != other.isPendingCashNull() || Math.abs(getPendingCash() - other.getPendingCash()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPmeTotUnrealPlNull() != other.isPmeTotUnrealPlNull() || Math.abs(getPmeTotUnrealPl() - other.getPmeTotUnrealPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosAccrIntBaseNull() != other.isPosAccrIntBaseNull() || Math.abs(getPosAccrIntBase() - other.getPosAccrIntBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosCostBaseNull() != other.isPosCostBaseNull() || Math.abs(getPosCostBase() - other.getPosCostBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosMktvlBaseNull() != other.isPosMktvlBaseNull() || Math.abs(getPosMktvlBase() - other.getPosMktvlBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosNotvlBaseNull() != other.isPosNotvlBaseNull() || Math.abs(getPosNotvlBase() - other.getPosNotvlBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosPurchIntBaseNull() != other.isPosPurchIntBaseNull() || Math.abs(getPosPurchIntBase() - other.getPosPurchIntBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPosXrateNull() != other.isPosXrateNull() || Math.abs(getPosXrate() - other.getPosXrate()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isPositionQuantityNull() != other.isPositionQuantityNull() || Math.abs(getPositionQuantity() - other.getPositionQuantity()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isPositionTypeNull() ? !getPositionType().equals(other.getPositionType()) : !other.isPositionTypeNull())
+			{
+				return true;
+			}
+
+			if (!isPrimaryIncomeFunctionNull() ? !getPrimaryIncomeFunction().equals(other.getPrimaryIncomeFunction()) : !other.isPrimaryIncomeFunctionNull())
+			{
+				return true;
+			}
+
+			if ( isProdFutCntrctSizeNull() != other.isProdFutCntrctSizeNull() || Math.abs(getProdFutCntrctSize() - other.getProdFutCntrctSize()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( getProdGlobalClass() != other.getProdGlobalClass())
+			{
+				return true;
+			}
+
+			if ( isProdRelHostNull() != other.isProdRelHostNull() || Math.abs(getProdRelHost() - other.getProdRelHost()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isProdScrpBsPostClassNull() ? !getProdScrpBsPostClass().equals(other.getProdScrpBsPostClass()) : !other.isProdScrpBsPostClassNull())
+			{
+				return true;
+			}
+
+			if (!isProdScrpPlPostClassNull() ? !getProdScrpPlPostClass().equals(other.getProdScrpPlPostClass()) : !other.isProdScrpPlPostClassNull())
+			{
+				return true;
+			}
+
+			if ( isProdStkPxNull() != other.isProdStkPxNull() || Math.abs(getProdStkPx() - other.getProdStkPx()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isProdSynNull() ? !getProdSyn().equals(other.getProdSyn()) : !other.isProdSynNull())
+			{
+				return true;
+			}
+
+			if (!isProdTypeNull() ? !getProdType().equals(other.getProdType()) : !other.isProdTypeNull())
+			{
+				return true;
+			}
+
+			if ( isProdUndrClassNull() != other.isProdUndrClassNull() || getProdUndrClass() != other.getProdUndrClass())
+			{
+				return true;
+			}
+
+			if ( isProdUndrlrPxNull() != other.isProdUndrlrPxNull() || Math.abs(getProdUndrlrPx() - other.getProdUndrlrPx()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isProdXplRltnNull() ? !getProdXplRltn().equals(other.getProdXplRltn()) : !other.isProdXplRltnNull())
+			{
+				return true;
+			}
+
+			if (!isProductDescriptionNull() ? !getProductDescription().equals(other.getProductDescription()) : !other.isProductDescriptionNull())
+			{
+				return true;
+			}
+
+			if (!isProductIssueCountryNull() ? !getProductIssueCountry().equals(other.getProductIssueCountry()) : !other.isProductIssueCountryNull())
+			{
+				return true;
+			}
+
+			if (!isProductIssueCurrencyNull() ? !getProductIssueCurrency().equals(other.getProductIssueCurrency()) : !other.isProductIssueCurrencyNull())
+			{
+				return true;
+			}
+
+			if (!isProductMaturityDateNull() ? !getProductMaturityDate().equals(other.getProductMaturityDate()) : !other.isProductMaturityDateNull())
+			{
+				return true;
+			}
+
+			if (!isProductPrimaryMarketNull() ? !getProductPrimaryMarket().equals(other.getProductPrimaryMarket()) : !other.isProductPrimaryMarketNull())
+			{
+				return true;
+			}
+
+			if (!isProductProfileNull() ? !getProductProfile().equals(other.getProductProfile()) : !other.isProductProfileNull())
+			{
+				return true;
+			}
+
+			if ( isProductUnderlierReferenceIdNull() != other.isProductUnderlierReferenceIdNull() || getProductUnderlierReferenceId() != other.getProductUnderlierReferenceId())
+			{
+				return true;
+			}
+
+			if ( isRegCostBaseNull() != other.isRegCostBaseNull() || Math.abs(getRegCostBase() - other.getRegCostBase()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isRegQtyNull() != other.isRegQtyNull() || Math.abs(getRegQty() - other.getRegQty()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isSdFxUnrealPlNull() != other.isSdFxUnrealPlNull() || Math.abs(getSdFxUnrealPl() - other.getSdFxUnrealPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isSegregatedCashNull() != other.isSegregatedCashNull() || Math.abs(getSegregatedCash() - other.getSegregatedCash()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isSettledCashNull() != other.isSettledCashNull() || Math.abs(getSettledCash() - other.getSettledCash()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isTlewTrialChangeNull() != other.isTlewTrialChangeNull() || getTlewTrialChange() != other.getTlewTrialChange())
+			{
+				return true;
+			}
+
+			if ( getTlewTrialCreate() != other.getTlewTrialCreate())
+			{
+				return true;
+			}
+
+			if ( isTotUnrealPlNull() != other.isTotUnrealPlNull() || Math.abs(getTotUnrealPl() - other.getTotUnrealPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if (!isTrialNull() ? !getTrial().equals(other.getTrial()) : !other.isTrialNull())
+			{
+				return true;
+			}
+
+			if ( isUnrealFutPerGmiPlNull() != other.isUnrealFutPerGmiPlNull() || Math.abs(getUnrealFutPerGmiPl() - other.getUnrealFutPerGmiPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isUnstldFwdPlNull() != other.isUnstldFwdPlNull() || Math.abs(getUnstldFwdPl() - other.getUnstldFwdPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isUnstldRwPlNull() != other.isUnstldRwPlNull() || Math.abs(getUnstldRwPl() - other.getUnstldRwPl()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isValuationAdjNull() != other.isValuationAdjNull() || Math.abs(getValuationAdj() - other.getValuationAdj()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TlewTrialDataOnHeap copy = new TlewTrialDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TlewTrialDataOnHeap copy = new TlewTrialDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "acctId: "+(""+getAcctId())+ " / ";
+			result += "instrument: "+(""+getInstrument())+ " / ";
+			result += "instrumentType: "+"'"+getInstrumentType()+"'"+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TlewTrialData otherData = (TlewTrialData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TlewTrialData otherData = (TlewTrialData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.TlewTrialData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TlewTrialFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TlewTrialFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.TlewTrialData";
+		}
+	}
+}
@@ -0,0 +1,1632 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TlewTrialDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "POS_TYP_C,INSTR_SUB_TYP_C,ACCT_N,TRIAL_C,LEGAL_ENTITY_I,BASE_CURR_C,ACCT_TYP_B,ACCT_TYP_C,PRIM_INCOME_FUNC_C,CARRY_TRANSF_FLAG_C,ACCT_DESC_T,PROD_SYN_N,PROD_STK_PX_M,PROD_DESC_T,PROD_ISS_CCY_C,PROD_PROFILE_C,PROD_FUT_CNTRCT_SIZE_Q,PROD_XPR_MTY_D,PROD_ISS_CNTRY_C,PROD_PRM_MKT_C,PROD_UNDRLR_REF_I,PROD_XPL_RLTN_C,PROD_REL_HOST_Q,PROD_UNDRLR_PX_M,POS_SHR_Q,POS_MKTVL_BASE_M,POS_COST_BASE_M,POS_ACCR_INT_BASE_M,POS_PURCH_INT_BASE_M,POS_NOTVL_BASE_M,CONTRACTUAL_NPV_M,UNSTLD_RW_PL_M,UNSTLD_FWD_PL_M,UNREAL_FUT_PER_GMI_PL_M,FAIR_VAL_ADJ_M,ADJ_TD_UNSTLD_FUT_PL_M,VALUATION_ADJ_M,ACCR_DIV_M,OTHER_TD_ADJ_M,FX_REVAL_ADJ_M,ADJ_SD_RESRV_UNREAL_PL_M,SD_FX_UNREAL_PL_M,TOT_UNREAL_PL_M,PME_TOT_UNREAL_PL_M,MTD_INT_INCM_M,MTD_INT_XPNS_M,PENDING_CASH_M,MTD_REAL_TRADING_PL_M,OTHER_ADJ_CNTRL_TOT_M,SETTLED_CASH_M,FX_PER_STOCK_REC,MTD_DIV_INCM_M,MTD_TRANSFER_TAX_M,CARRY_CHARGE_M,CARRY_REBATE_M,LTD_SD_UNREAL_M,ACTIVE_MTD_REC_C,PROD_GLOBAL_CLASS_I,PROD_SCRP_PL_POST_CLASS_N,PROD_SCRP_BS_POST_CLASS_N,TLEW_TRIAL_CREATE_C,TLEW_TRIAL_CHANGE_C,OFFSET_PAY_RECV_M,SEGREGATED_CASH_M,BUS_DATE_Z,POS_XRATE_M,PROD_TYPE_C,REG_COST_BASE_M,FWD_COST_BASE_M,REG_QTY_Q,FWD_QTY_Q,GAAP_TD_MKTVL_BASE_M,OPEN_INT_BASE_M,LOCAL_CURR_TIME_Z,MTD_SD_UNREAL_M,FWD_QTY_GT_30_Q,FWD_COST_GT_30_BASE_M,PROD_UNDR_CLASS_I,GMI_UNREAL_M,MTD_TD_UNREAL_M,PARA_PROD_TYPE_N,LTD_LCM_TD_UNREAL_M,MTD_LCM_TD_UNREAL_M,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.POS_TYP_C,t0.INSTR_SUB_TYP_C,t0.ACCT_N,t0.TRIAL_C,t0.LEGAL_ENTITY_I,t0.BASE_CURR_C,t0.ACCT_TYP_B,t0.ACCT_TYP_C,t0.PRIM_INCOME_FUNC_C,t0.CARRY_TRANSF_FLAG_C,t0.ACCT_DESC_T,t0.PROD_SYN_N,t0.PROD_STK_PX_M,t0.PROD_DESC_T,t0.PROD_ISS_CCY_C,t0.PROD_PROFILE_C,t0.PROD_FUT_CNTRCT_SIZE_Q,t0.PROD_XPR_MTY_D,t0.PROD_ISS_CNTRY_C,t0.PROD_PRM_MKT_C,t0.PROD_UNDRLR_REF_I,t0.PROD_XPL_RLTN_C,t0.PROD_REL_HOST_Q,t0.PROD_UNDRLR_PX_M,t0.POS_SHR_Q,t0.POS_MKTVL_BASE_M,t0.POS_COST_BASE_M,t0.POS_ACCR_INT_BASE_M,t0.POS_PURCH_INT_BASE_M,t0.POS_NOTVL_BASE_M,t0.CONTRACTUAL_NPV_M,t0.UNSTLD_RW_PL_M,t0.UNSTLD_FWD_PL_M,t0.UNREAL_FUT_PER_GMI_PL_M,t0.FAIR_VAL_ADJ_M,t0.ADJ_TD_UNSTLD_FUT_PL_M,t0.VALUATION_ADJ_M,t0.ACCR_DIV_M,t0.OTHER_TD_ADJ_M,t0.FX_REVAL_ADJ_M,t0.ADJ_SD_RESRV_UNREAL_PL_M,t0.SD_FX_UNREAL_PL_M,t0.TOT_UNREAL_PL_M,t0.PME_TOT_UNREAL_PL_M,t0.MTD_INT_INCM_M,t0.MTD_INT_XPNS_M,t0.PENDING_CASH_M,t0.MTD_REAL_TRADING_PL_M,t0.OTHER_ADJ_CNTRL_TOT_M,t0.SETTLED_CASH_M,t0.FX_PER_STOCK_REC,t0.MTD_DIV_INCM_M,t0.MTD_TRANSFER_TAX_M,t0.CARRY_CHARGE_M,t0.CARRY_REBATE_M,t0.LTD_SD_UNREAL_M,t0.ACTIVE_MTD_REC_C,t0.PROD_GLOBAL_CLASS_I,t0.PROD_SCRP_PL_POST_CLASS_N,t0.PROD_SCRP_BS_POST_CLASS_N,t0.TLEW_TRIAL_CREATE_C,t0.TLEW_TRIAL_CHANGE_C,t0.OFFSET_PAY_RECV_M,t0.SEGREGATED_CASH_M,t0.BUS_DATE_Z,t0.POS_XRATE_M,t0.PROD_TYPE_C,t0.REG_COST_BASE_M,t0.FWD_COST_BASE_M,t0.REG_QTY_Q,t0.FWD_QTY_Q,t0.GAAP_TD_MKTVL_BASE_M,t0.OPEN_INT_BASE_M,t0.LOCAL_CURR_TIME_Z,t0.MTD_SD_UNREAL_M,t0.FWD_QTY_GT_30_Q,t0.FWD_COST_GT_30_BASE_M,t0.PROD_UNDR_CLASS_I,t0.GMI_UNREAL_M,t0.MTD_TD_UNREAL_M,t0.PARA_PROD_TYPE_N,t0.LTD_LCM_TD_UNREAL_M,t0.MTD_LCM_TD_UNREAL_M,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ACCT_I = ? AND t0.INSTRUMENT_I = ? AND t0.INSTR_TYP_C = ?";
+	private static final String PK_INDEX_COLS = "ACCT_I,INSTRUMENT_I,INSTR_TYP_C";
+	protected TlewTrialDatabaseObjectAbstract()
+	{
+		super("TlewTrial", "com.gs.fw.common.mithra.test.domain.bcp.TlewTrialFinder",
+			88, 88,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			true, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TlewTrialFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TlewTrialFinder.getFinderInstance();
+	}
+
+	public static TlewTrialData allocateOnHeapData()
+	{
+		return new TlewTrialData.TlewTrialDataOnHeap();
+	}
+
+	public static TlewTrialData allocateOffHeapData()
+	{
+		return new TlewTrialData.TlewTrialDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TlewTrialData.TlewTrialDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TlewTrialFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TlewTrialData data = new TlewTrialData.TlewTrialDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TlewTrialFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TlewTrialData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.bcp.TlewTrial", TlewTrialFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("TlewTrial"));
+			TlewTrialData.TlewTrialDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(TlewTrialFinder.getPrimaryKeyAttributes(), TlewTrialFinder.getAsOfAttributes(), this, TlewTrialFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(TlewTrialFinder.getPrimaryKeyAttributes(), TlewTrialFinder.getAsOfAttributes(), this, TlewTrialFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(TlewTrialFinder.getPrimaryKeyAttributes(), TlewTrialFinder.getAsOfAttributes(), this, TlewTrialFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(TlewTrialFinder.getPrimaryKeyAttributes(), TlewTrialFinder.getAsOfAttributes(), this, TlewTrialFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(TlewTrialFinder.getPrimaryKeyAttributes(), TlewTrialFinder.getAsOfAttributes(), this, TlewTrialFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TlewTrialData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.bcp.TlewTrial", TlewTrialFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			TlewTrialData.TlewTrialDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(TlewTrialFinder.getPrimaryKeyAttributes(), TlewTrialFinder.getAsOfAttributes(), this, TlewTrialFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(TlewTrialFinder.getPrimaryKeyAttributes(), TlewTrialFinder.getAsOfAttributes(), this, TlewTrialFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TlewTrialFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TlewTrialFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TlewTrial.zConfigFullTx();
+		}
+		else
+		{
+			TlewTrial.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTlewTrialData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTlewTrialData(1, (TlewTrialData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTlewTrialPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTlewTrialTableName();
+	}
+
+	public String getTlewTrialTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TlewTrialData data = (TlewTrialData)dataObj;
+		TimeZone conversionTimeZone = null;
+		pos = setPrimaryKeyAttributesWithoutOptimistic(stm,pos,dataObj,databaseTimeZone,dt);
+		if (TlewTrialFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+			pos++;
+		}
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TlewTrialData data = (TlewTrialData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAcctId());
+		stm.setInt(pos++, data.getInstrument());
+		stm.setString(pos++, data.getInstrumentType());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TlewTrialFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+		return pos;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		if (TlewTrialFinder.getMithraObjectPortal().getTxParticipationMode().isOptimisticLocking())
+		{
+		}
+
+		return "ACCT_I = ? AND INSTRUMENT_I = ? AND INSTR_TYP_C = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ACCT_I,t0.INSTRUMENT_I,t0.INSTR_TYP_C,t0.POS_TYP_C,t0.INSTR_SUB_TYP_C,t0.ACCT_N,t0.TRIAL_C,t0.LEGAL_ENTITY_I,t0.BASE_CURR_C,t0.ACCT_TYP_B,t0.ACCT_TYP_C,t0.PRIM_INCOME_FUNC_C,t0.CARRY_TRANSF_FLAG_C,t0.ACCT_DESC_T,t0.PROD_SYN_N,t0.PROD_STK_PX_M,t0.PROD_DESC_T,t0.PROD_ISS_CCY_C,t0.PROD_PROFILE_C,t0.PROD_FUT_CNTRCT_SIZE_Q,t0.PROD_XPR_MTY_D,t0.PROD_ISS_CNTRY_C,t0.PROD_PRM_MKT_C,t0.PROD_UNDRLR_REF_I,t0.PROD_XPL_RLTN_C,t0.PROD_REL_HOST_Q,t0.PROD_UNDRLR_PX_M,t0.POS_SHR_Q,t0.POS_MKTVL_BASE_M,t0.POS_COST_BASE_M,t0.POS_ACCR_INT_BASE_M,t0.POS_PURCH_INT_BASE_M,t0.POS_NOTVL_BASE_M,t0.CONTRACTUAL_NPV_M,t0.UNSTLD_RW_PL_M,t0.UNSTLD_FWD_PL_M,t0.UNREAL_FUT_PER_GMI_PL_M,t0.FAIR_VAL_ADJ_M,t0.ADJ_TD_UNSTLD_FUT_PL_M,t0.VALUATION_ADJ_M,t0.ACCR_DIV_M,t0.OTHER_TD_ADJ_M,t0.FX_REVAL_ADJ_M,t0.ADJ_SD_RESRV_UNREAL_PL_M,t0.SD_FX_UNREAL_PL_M,t0.TOT_UNREAL_PL_M,t0.PME_TOT_UNREAL_PL_M,t0.MTD_INT_INCM_M,t0.MTD_INT_XPNS_M,t0.PENDING_CASH_M,t0.MTD_REAL_TRADING_PL_M,t0.OTHER_ADJ_CNTRL_TOT_M,t0.SETTLED_CASH_M,t0.FX_PER_STOCK_REC,t0.MTD_DIV_INCM_M,t0.MTD_TRANSFER_TAX_M,t0.CARRY_CHARGE_M,t0.CARRY_REBATE_M,t0.LTD_SD_UNREAL_M,t0.ACTIVE_MTD_REC_C,t0.PROD_GLOBAL_CLASS_I,t0.PROD_SCRP_PL_POST_CLASS_N,t0.PROD_SCRP_BS_POST_CLASS_N,t0.TLEW_TRIAL_CREATE_C,t0.TLEW_TRIAL_CHANGE_C,t0.OFFSET_PAY_RECV_M,t0.SEGREGATED_CASH_M,t0.BUS_DATE_Z,t0.POS_XRATE_M,t0.PROD_TYPE_C,t0.REG_COST_BASE_M,t0.FWD_COST_BASE_M,t0.REG_QTY_Q,t0.FWD_QTY_Q,t0.GAAP_TD_MKTVL_BASE_M,t0.OPEN_INT_BASE_M,t0.LOCAL_CURR_TIME_Z,t0.MTD_SD_UNREAL_M,t0.FWD_QTY_GT_30_Q,t0.FWD_COST_GT_30_BASE_M,t0.PROD_UNDR_CLASS_I,t0.GMI_UNREAL_M,t0.MTD_TD_UNREAL_M,t0.PARA_PROD_TYPE_N,t0.LTD_LCM_TD_UNREAL_M,t0.MTD_LCM_TD_UNREAL_M,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*88);
+		result.append(databaseAlias).append(".").append("ACCT_I");
+		result.append(",").append(databaseAlias).append(".").append("INSTRUMENT_I");
+		result.append(",").append(databaseAlias).append(".").append("INSTR_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("POS_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("INSTR_SUB_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_N");
+		result.append(",").append(databaseAlias).append(".").append("TRIAL_C");
+		result.append(",").append(databaseAlias).append(".").append("LEGAL_ENTITY_I");
+		result.append(",").append(databaseAlias).append(".").append("BASE_CURR_C");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_TYP_B");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("PRIM_INCOME_FUNC_C");
+		result.append(",").append(databaseAlias).append(".").append("CARRY_TRANSF_FLAG_C");
+		result.append(",").append(databaseAlias).append(".").append("ACCT_DESC_T");
+		result.append(",").append(databaseAlias).append(".").append("PROD_SYN_N");
+		result.append(",").append(databaseAlias).append(".").append("PROD_STK_PX_M");
+		result.append(",").append(databaseAlias).append(".").append("PROD_DESC_T");
+		result.append(",").append(databaseAlias).append(".").append("PROD_ISS_CCY_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_PROFILE_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_FUT_CNTRCT_SIZE_Q");
+		result.append(",").append(databaseAlias).append(".").append("PROD_XPR_MTY_D");
+		result.append(",").append(databaseAlias).append(".").append("PROD_ISS_CNTRY_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_PRM_MKT_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_UNDRLR_REF_I");
+		result.append(",").append(databaseAlias).append(".").append("PROD_XPL_RLTN_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_REL_HOST_Q");
+		result.append(",").append(databaseAlias).append(".").append("PROD_UNDRLR_PX_M");
+		result.append(",").append(databaseAlias).append(".").append("POS_SHR_Q");
+		result.append(",").append(databaseAlias).append(".").append("POS_MKTVL_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("POS_COST_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("POS_ACCR_INT_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("POS_PURCH_INT_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("POS_NOTVL_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("CONTRACTUAL_NPV_M");
+		result.append(",").append(databaseAlias).append(".").append("UNSTLD_RW_PL_M");
+		result.append(",").append(databaseAlias).append(".").append("UNSTLD_FWD_PL_M");
+		result.append(",").append(databaseAlias).append(".").append("UNREAL_FUT_PER_GMI_PL_M");
+		result.append(",").append(databaseAlias).append(".").append("FAIR_VAL_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("ADJ_TD_UNSTLD_FUT_PL_M");
+		result.append(",").append(databaseAlias).append(".").append("VALUATION_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("ACCR_DIV_M");
+		result.append(",").append(databaseAlias).append(".").append("OTHER_TD_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("FX_REVAL_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("ADJ_SD_RESRV_UNREAL_PL_M");
+		result.append(",").append(databaseAlias).append(".").append("SD_FX_UNREAL_PL_M");
+		result.append(",").append(databaseAlias).append(".").append("TOT_UNREAL_PL_M");
+		result.append(",").append(databaseAlias).append(".").append("PME_TOT_UNREAL_PL_M");
+		result.append(",").append(databaseAlias).append(".").append("MTD_INT_INCM_M");
+		result.append(",").append(databaseAlias).append(".").append("MTD_INT_XPNS_M");
+		result.append(",").append(databaseAlias).append(".").append("PENDING_CASH_M");
+		result.append(",").append(databaseAlias).append(".").append("MTD_REAL_TRADING_PL_M");
+		result.append(",").append(databaseAlias).append(".").append("OTHER_ADJ_CNTRL_TOT_M");
+		result.append(",").append(databaseAlias).append(".").append("SETTLED_CASH_M");
+		result.append(",").append(databaseAlias).append(".").append("FX_PER_STOCK_REC");
+		result.append(",").append(databaseAlias).append(".").append("MTD_DIV_INCM_M");
+		result.append(",").append(databaseAlias).append(".").append("MTD_TRANSFER_TAX_M");
+		result.append(",").append(databaseAlias).append(".").append("CARRY_CHARGE_M");
+		result.append(",").append(databaseAlias).append(".").append("CARRY_REBATE_M");
+		result.append(",").append(databaseAlias).append(".").append("LTD_SD_UNREAL_M");
+		result.append(",").append(databaseAlias).append(".").append("ACTIVE_MTD_REC_C");
+		result.append(",").append(databaseAlias).append(".").append("PROD_GLOBAL_CLASS_I");
+		result.append(",").append(databaseAlias).append(".").append("PROD_SCRP_PL_POST_CLASS_N");
+		result.append(",").append(databaseAlias).append(".").append("PROD_SCRP_BS_POST_CLASS_N");
+		result.append(",").append(databaseAlias).append(".").append("TLEW_TRIAL_CREATE_C");
+		result.append(",").append(databaseAlias).append(".").append("TLEW_TRIAL_CHANGE_C");
+		result.append(",").append(databaseAlias).append(".").append("OFFSET_PAY_RECV_M");
+		result.append(",").append(databaseAlias).append(".").append("SEGREGATED_CASH_M");
+		result.append(",").append(databaseAlias).append(".").append("BUS_DATE_Z");
+		result.append(",").append(databaseAlias).append(".").append("POS_XRATE_M");
+		result.append(",").append(databaseAlias).append(".").append("PROD_TYPE_C");
+		result.append(",").append(databaseAlias).append(".").append("REG_COST_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("FWD_COST_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("REG_QTY_Q");
+		result.append(",").append(databaseAlias).append(".").append("FWD_QTY_Q");
+		result.append(",").append(databaseAlias).append(".").append("GAAP_TD_MKTVL_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("OPEN_INT_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("LOCAL_CURR_TIME_Z");
+		result.append(",").append(databaseAlias).append(".").append("MTD_SD_UNREAL_M");
+		result.append(",").append(databaseAlias).append(".").append("FWD_QTY_GT_30_Q");
+		result.append(",").append(databaseAlias).append(".").append("FWD_COST_GT_30_BASE_M");
+		result.append(",").append(databaseAlias).append(".").append("PROD_UNDR_CLASS_I");
+		result.append(",").append(databaseAlias).append(".").append("GMI_UNREAL_M");
+		result.append(",").append(databaseAlias).append(".").append("MTD_TD_UNREAL_M");
+		result.append(",").append(databaseAlias).append(".").append("PARA_PROD_TYPE_N");
+		result.append(",").append(databaseAlias).append(".").append("LTD_LCM_TD_UNREAL_M");
+		result.append(",").append(databaseAlias).append(".").append("MTD_LCM_TD_UNREAL_M");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TlewTrialData inflateTlewTrialData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TlewTrialData data = inflateTlewTrialPkData(rs, dt);
+		inflateNonPkTlewTrialData(4, data, rs, dt);
+		return data;
+	}
+
+	public TlewTrialData inflateTlewTrialPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TlewTrialData _data = new TlewTrialData.TlewTrialDataOnHeap();
+		int _pos = 1;
+		_data.setAcctId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "acctId");
+		_data.setInstrument(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "instrument");
+		_data.setInstrumentType(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkTlewTrialData(int _pos, TlewTrialData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TlewTrialData _data = _datax;
+			_data.setPositionType(trimString(_rs.getString(_pos++)));
+			_data.setInstrumentSubType(trimString(_rs.getString(_pos++)));
+			_data.setAccountNumber(trimString(_rs.getString(_pos++)));
+			_data.setTrial(trimString(_rs.getString(_pos++)));
+			_data.setLegalEntity(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "legalEntity");
+			_data.setBaseCurrency(trimString(_rs.getString(_pos++)));
+			_data.setAccountTypeB(_rs.getInt(_pos++));
+			checkNullPrimitive(_rs, _data, "accountTypeB");
+			_data.setAccountTypeC(trimString(_rs.getString(_pos++)));
+			_data.setPrimaryIncomeFunction(trimString(_rs.getString(_pos++)));
+			_data.setCarryTransferFlag(_rs.getShort(_pos++));
+			checkNullPrimitive(_rs, _data, "carryTransferFlag");
+			_data.setAccountDescription(trimString(_rs.getString(_pos++)));
+			_data.setProdSyn(trimString(_rs.getString(_pos++)));
+			_data.setProdStkPx(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProdStkPxNull();
+			}
+
+			_data.setProductDescription(trimString(_rs.getString(_pos++)));
+			_data.setProductIssueCurrency(trimString(_rs.getString(_pos++)));
+			_data.setProductProfile(trimString(_rs.getString(_pos++)));
+			_data.setProdFutCntrctSize(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProdFutCntrctSizeNull();
+			}
+
+			Timestamp productMaturityDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProductMaturityDate(productMaturityDatetimestampValue);
+			_data.setProductIssueCountry(trimString(_rs.getString(_pos++)));
+			_data.setProductPrimaryMarket(trimString(_rs.getString(_pos++)));
+			_data.setProductUnderlierReferenceId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProductUnderlierReferenceIdNull();
+			}
+
+			_data.setProdXplRltn(trimString(_rs.getString(_pos++)));
+			_data.setProdRelHost(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProdRelHostNull();
+			}
+
+			_data.setProdUndrlrPx(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProdUndrlrPxNull();
+			}
+
+			_data.setPositionQuantity(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPositionQuantityNull();
+			}
+
+			_data.setPosMktvlBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPosMktvlBaseNull();
+			}
+
+			_data.setPosCostBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPosCostBaseNull();
+			}
+
+			_data.setPosAccrIntBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPosAccrIntBaseNull();
+			}
+
+			_data.setPosPurchIntBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPosPurchIntBaseNull();
+			}
+
+			_data.setPosNotvlBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPosNotvlBaseNull();
+			}
+
+			_data.setContractualNpv(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setContractualNpvNull();
+			}
+
+			_data.setUnstldRwPl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUnstldRwPlNull();
+			}
+
+			_data.setUnstldFwdPl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUnstldFwdPlNull();
+			}
+
+			_data.setUnrealFutPerGmiPl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUnrealFutPerGmiPlNull();
+			}
+
+			_data.setFairValAdj(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFairValAdjNull();
+			}
+
+			_data.setAdjTdUnstldFutPl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAdjTdUnstldFutPlNull();
+			}
+
+			_data.setValuationAdj(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setValuationAdjNull();
+			}
+
+			_data.setAccrDiv(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAccrDivNull();
+			}
+
+			_data.setOtherTdAdj(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOtherTdAdjNull();
+			}
+
+			_data.setFxRevalAdj(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFxRevalAdjNull();
+			}
+
+			_data.setAdjSdResrvUnrealPl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAdjSdResrvUnrealPlNull();
+			}
+
+			_data.setSdFxUnrealPl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setSdFxUnrealPlNull();
+			}
+
+			_data.setTotUnrealPl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTotUnrealPlNull();
+			}
+
+			_data.setPmeTotUnrealPl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPmeTotUnrealPlNull();
+			}
+
+			_data.setMtdIntIncm(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMtdIntIncmNull();
+			}
+
+			_data.setMtdIntXpns(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMtdIntXpnsNull();
+			}
+
+			_data.setPendingCash(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPendingCashNull();
+			}
+
+			_data.setMtdRealTradingPl(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMtdRealTradingPlNull();
+			}
+
+			_data.setOtherAdjCntrlTot(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOtherAdjCntrlTotNull();
+			}
+
+			_data.setSettledCash(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setSettledCashNull();
+			}
+
+			_data.setFxPerStockRec(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFxPerStockRecNull();
+			}
+
+			_data.setMtdDivIncm(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMtdDivIncmNull();
+			}
+
+			_data.setMtdTransferTax(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMtdTransferTaxNull();
+			}
+
+			_data.setCarryCharge(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "carryCharge");
+			_data.setCarryRebate(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "carryRebate");
+			_data.setLtdSdUnreal(_rs.getDouble(_pos++));
+			checkNullPrimitive(_rs, _data, "ltdSdUnreal");
+			_data.setActiveMtdRec(_rs.getShort(_pos++));
+			checkNullPrimitive(_rs, _data, "activeMtdRec");
+			_data.setProdGlobalClass(_rs.getLong(_pos++));
+			checkNullPrimitive(_rs, _data, "prodGlobalClass");
+			_data.setProdScrpPlPostClass(trimString(_rs.getString(_pos++)));
+			_data.setProdScrpBsPostClass(trimString(_rs.getString(_pos++)));
+			_data.setTlewTrialCreate(_rs.getShort(_pos++));
+			checkNullPrimitive(_rs, _data, "tlewTrialCreate");
+			_data.setTlewTrialChange(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTlewTrialChangeNull();
+			}
+
+			_data.setOffsetPayRecv(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOffsetPayRecvNull();
+			}
+
+			_data.setSegregatedCash(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setSegregatedCashNull();
+			}
+
+			Timestamp busDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusDate(busDatetimestampValue);
+			_data.setPosXrate(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPosXrateNull();
+			}
+
+			_data.setProdType(trimString(_rs.getString(_pos++)));
+			_data.setRegCostBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRegCostBaseNull();
+			}
+
+			_data.setFwdCostBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFwdCostBaseNull();
+			}
+
+			_data.setRegQty(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRegQtyNull();
+			}
+
+			_data.setFwdQty(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFwdQtyNull();
+			}
+
+			_data.setGaapTdMktvlBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setGaapTdMktvlBaseNull();
+			}
+
+			_data.setOpenIntBase(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setOpenIntBaseNull();
+			}
+
+			Timestamp localCurrTimetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setLocalCurrTime(localCurrTimetimestampValue);
+			_data.setMtdSdUnreal(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMtdSdUnrealNull();
+			}
+
+			_data.setFwdQtyGt30(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFwdQtyGt30Null();
+			}
+
+			_data.setFwdCostGt30Base(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFwdCostGt30BaseNull();
+			}
+
+			_data.setProdUndrClass(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProdUndrClassNull();
+			}
+
+			_data.setGmiUnreal(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setGmiUnrealNull();
+			}
+
+			_data.setMtdTdUnreal(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMtdTdUnrealNull();
+			}
+
+			_data.setParaProdType(trimString(_rs.getString(_pos++)));
+			_data.setLtdLcmTdUnreal(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setLtdLcmTdUnrealNull();
+			}
+
+			_data.setMtdLcmTdUnreal(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setMtdLcmTdUnrealNull();
+			}
+
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TlewTrialFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTlewTrialTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TLEW_TRIAL";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TlewTrialData data = (TlewTrialData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAcctId());
+		stm.setInt(pos++, data.getInstrument());
+		if(data.isPositionTypeNull())
+		{
+			throwNullAttribute("positionType");
+		}
+
+		stm.setString(pos++, data.getPositionType());
+		if(data.isInstrumentTypeNull())
+		{
+			throwNullAttribute("instrumentType");
+		}
+
+		stm.setString(pos++, data.getInstrumentType());
+		if (data.isInstrumentSubTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getInstrumentSubType());
+		}
+
+		if(data.isAccountNumberNull())
+		{
+			throwNullAttribute("accountNumber");
+		}
+
+		stm.setString(pos++, data.getAccountNumber());
+		if(data.isTrialNull())
+		{
+			throwNullAttribute("trial");
+		}
+
+		stm.setString(pos++, data.getTrial());
+		stm.setInt(pos++, data.getLegalEntity());
+		if (data.isBaseCurrencyNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getBaseCurrency());
+		}
+
+		stm.setInt(pos++, data.getAccountTypeB());
+		if(data.isAccountTypeCNull())
+		{
+			throwNullAttribute("accountTypeC");
+		}
+
+		stm.setString(pos++, data.getAccountTypeC());
+		if(data.isPrimaryIncomeFunctionNull())
+		{
+			throwNullAttribute("primaryIncomeFunction");
+		}
+
+		stm.setString(pos++, data.getPrimaryIncomeFunction());
+		stm.setShort(pos++, data.getCarryTransferFlag());
+		if (data.isAccountDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getAccountDescription());
+		}
+
+		if (data.isProdSynNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProdSyn());
+		}
+
+		if (data.isProdStkPxNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getProdStkPx());
+		}
+
+		if (data.isProductDescriptionNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProductDescription());
+		}
+
+		if (data.isProductIssueCurrencyNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProductIssueCurrency());
+		}
+
+		if (data.isProductProfileNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProductProfile());
+		}
+
+		if (data.isProdFutCntrctSizeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getProdFutCntrctSize());
+		}
+
+		if (data.isProductMaturityDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getProductMaturityDate(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isProductIssueCountryNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProductIssueCountry());
+		}
+
+		if (data.isProductPrimaryMarketNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProductPrimaryMarket());
+		}
+
+		if (data.isProductUnderlierReferenceIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getProductUnderlierReferenceId());
+		}
+
+		if (data.isProdXplRltnNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProdXplRltn());
+		}
+
+		if (data.isProdRelHostNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getProdRelHost());
+		}
+
+		if (data.isProdUndrlrPxNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getProdUndrlrPx());
+		}
+
+		if (data.isPositionQuantityNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPositionQuantity());
+		}
+
+		if (data.isPosMktvlBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPosMktvlBase());
+		}
+
+		if (data.isPosCostBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPosCostBase());
+		}
+
+		if (data.isPosAccrIntBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPosAccrIntBase());
+		}
+
+		if (data.isPosPurchIntBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPosPurchIntBase());
+		}
+
+		if (data.isPosNotvlBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPosNotvlBase());
+		}
+
+		if (data.isContractualNpvNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getContractualNpv());
+		}
+
+		if (data.isUnstldRwPlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getUnstldRwPl());
+		}
+
+		if (data.isUnstldFwdPlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getUnstldFwdPl());
+		}
+
+		if (data.isUnrealFutPerGmiPlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getUnrealFutPerGmiPl());
+		}
+
+		if (data.isFairValAdjNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFairValAdj());
+		}
+
+		if (data.isAdjTdUnstldFutPlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getAdjTdUnstldFutPl());
+		}
+
+		if (data.isValuationAdjNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getValuationAdj());
+		}
+
+		if (data.isAccrDivNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getAccrDiv());
+		}
+
+		if (data.isOtherTdAdjNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOtherTdAdj());
+		}
+
+		if (data.isFxRevalAdjNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFxRevalAdj());
+		}
+
+		if (data.isAdjSdResrvUnrealPlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getAdjSdResrvUnrealPl());
+		}
+
+		if (data.isSdFxUnrealPlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getSdFxUnrealPl());
+		}
+
+		if (data.isTotUnrealPlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getTotUnrealPl());
+		}
+
+		if (data.isPmeTotUnrealPlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPmeTotUnrealPl());
+		}
+
+		if (data.isMtdIntIncmNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMtdIntIncm());
+		}
+
+		if (data.isMtdIntXpnsNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMtdIntXpns());
+		}
+
+		if (data.isPendingCashNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPendingCash());
+		}
+
+		if (data.isMtdRealTradingPlNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMtdRealTradingPl());
+		}
+
+		if (data.isOtherAdjCntrlTotNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOtherAdjCntrlTot());
+		}
+
+		if (data.isSettledCashNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getSettledCash());
+		}
+
+		if (data.isFxPerStockRecNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFxPerStockRec());
+		}
+
+		if (data.isMtdDivIncmNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMtdDivIncm());
+		}
+
+		if (data.isMtdTransferTaxNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMtdTransferTax());
+		}
+
+		stm.setDouble(pos++, data.getCarryCharge());
+		stm.setDouble(pos++, data.getCarryRebate());
+		stm.setDouble(pos++, data.getLtdSdUnreal());
+		stm.setShort(pos++, data.getActiveMtdRec());
+		stm.setLong(pos++, data.getProdGlobalClass());
+		if(data.isProdScrpPlPostClassNull())
+		{
+			throwNullAttribute("prodScrpPlPostClass");
+		}
+
+		stm.setString(pos++, data.getProdScrpPlPostClass());
+		if(data.isProdScrpBsPostClassNull())
+		{
+			throwNullAttribute("prodScrpBsPostClass");
+		}
+
+		stm.setString(pos++, data.getProdScrpBsPostClass());
+		stm.setShort(pos++, data.getTlewTrialCreate());
+		if (data.isTlewTrialChangeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getTlewTrialChange());
+		}
+
+		if (data.isOffsetPayRecvNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOffsetPayRecv());
+		}
+
+		if (data.isSegregatedCashNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getSegregatedCash());
+		}
+
+		if (data.isBusDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getBusDate(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isPosXrateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getPosXrate());
+		}
+
+		if (data.isProdTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getProdType());
+		}
+
+		if (data.isRegCostBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getRegCostBase());
+		}
+
+		if (data.isFwdCostBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFwdCostBase());
+		}
+
+		if (data.isRegQtyNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getRegQty());
+		}
+
+		if (data.isFwdQtyNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFwdQty());
+		}
+
+		if (data.isGaapTdMktvlBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getGaapTdMktvlBase());
+		}
+
+		if (data.isOpenIntBaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getOpenIntBase());
+		}
+
+		if (data.isLocalCurrTimeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getLocalCurrTime(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isMtdSdUnrealNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMtdSdUnreal());
+		}
+
+		if (data.isFwdQtyGt30Null())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFwdQtyGt30());
+		}
+
+		if (data.isFwdCostGt30BaseNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getFwdCostGt30Base());
+		}
+
+		if (data.isProdUndrClassNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getProdUndrClass());
+		}
+
+		if (data.isGmiUnrealNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getGmiUnreal());
+		}
+
+		if (data.isMtdTdUnrealNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMtdTdUnreal());
+		}
+
+		if (data.isParaProdTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getParaProdType());
+		}
+
+		if (data.isLtdLcmTdUnrealNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getLtdLcmTdUnreal());
+		}
+
+		if (data.isMtdLcmTdUnrealNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getMtdLcmTdUnreal());
+		}
+
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TlewTrialFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "ACCT_I,INSTRUMENT_I,POS_TYP_C,INSTR_TYP_C,INSTR_SUB_TYP_C,ACCT_N,TRIAL_C,LEGAL_ENTITY_I,BASE_CURR_C,ACCT_TYP_B,ACCT_TYP_C,PRIM_INCOME_FUNC_C,CARRY_TRANSF_FLAG_C,ACCT_DESC_T,PROD_SYN_N,PROD_STK_PX_M,PROD_DESC_T,PROD_ISS_CCY_C,PROD_PROFILE_C,PROD_FUT_CNTRCT_SIZE_Q,PROD_XPR_MTY_D,PROD_ISS_CNTRY_C,PROD_PRM_MKT_C,PROD_UNDRLR_REF_I,PROD_XPL_RLTN_C,PROD_REL_HOST_Q,PROD_UNDRLR_PX_M,POS_SHR_Q,POS_MKTVL_BASE_M,POS_COST_BASE_M,POS_ACCR_INT_BASE_M,POS_PURCH_INT_BASE_M,POS_NOTVL_BASE_M,CONTRACTUAL_NPV_M,UNSTLD_RW_PL_M,UNSTLD_FWD_PL_M,UNREAL_FUT_PER_GMI_PL_M,FAIR_VAL_ADJ_M,ADJ_TD_UNSTLD_FUT_PL_M,VALUATION_ADJ_M,ACCR_DIV_M,OTHER_TD_ADJ_M,FX_REVAL_ADJ_M,ADJ_SD_RESRV_UNREAL_PL_M,SD_FX_UNREAL_PL_M,TOT_UNREAL_PL_M,PME_TOT_UNREAL_PL_M,MTD_INT_INCM_M,MTD_INT_XPNS_M,PENDING_CASH_M,MTD_REAL_TRADING_PL_M,OTHER_ADJ_CNTRL_TOT_M,SETTLED_CASH_M,FX_PER_STOCK_REC,MTD_DIV_INCM_M,MTD_TRANSFER_TAX_M,CARRY_CHARGE_M,CARRY_REBATE_M,LTD_SD_UNREAL_M,ACTIVE_MTD_REC_C,PROD_GLOBAL_CLASS_I,PROD_SCRP_PL_POST_CLASS_N,PROD_SCRP_BS_POST_CLASS_N,TLEW_TRIAL_CREATE_C,TLEW_TRIAL_CHANGE_C,OFFSET_PAY_RECV_M,SEGREGATED_CASH_M,BUS_DATE_Z,POS_XRATE_M,PROD_TYPE_C,REG_COST_BASE_M,FWD_COST_BASE_M,REG_QTY_Q,FWD_QTY_Q,GAAP_TD_MKTVL_BASE_M,OPEN_INT_BASE_M,LOCAL_CURR_TIME_Z,MTD_SD_UNREAL_M,FWD_QTY_GT_30_Q,FWD_COST_GT_30_BASE_M,PROD_UNDR_CLASS_I,GMI_UNREAL_M,MTD_TD_UNREAL_M,PARA_PROD_TYPE_N,LTD_LCM_TD_UNREAL_M,MTD_LCM_TD_UNREAL_M,IN_Z,OUT_Z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "AND IN_Z = ?";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TlewTrial newObject = new TlewTrial(asOfDates[0]
+		);
+		newObject.zSetFromTlewTrialData((TlewTrialData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new AuditOnlyTransactionalDataContainer(tx.getPerPortalTemporalContainer(TlewTrialFinder.getMithraObjectPortal(),
+			TlewTrialFinder.processingDate())
+		);
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TlewTrialData data = (TlewTrialData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAcctId());
+		stm.setInt(pos++, data.getInstrument());
+		stm.setString(pos++, data.getInstrumentType());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		throw new RuntimeException("not implemented");
+	}
+}
@@ -0,0 +1,835 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TlewTrialListAbstract extends DelegatingList<TlewTrial> implements MithraDatedTransactionalList<TlewTrial>
+{
+	public TlewTrialListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TlewTrialListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TlewTrialListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TlewTrialListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TlewTrial[] elements()
+	{
+		TlewTrial[] result = new TlewTrial[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TlewTrialList intersection(TlewTrialList another)
+	{
+		return (TlewTrialList)super.intersection(another);
+	}
+
+	public TlewTrial getTlewTrialAt(int index)
+	{
+		return (TlewTrial)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TlewTrialFinder.getMithraObjectPortal();
+	}
+
+	public TlewTrialList getNonPersistentCopy()
+	{
+		TlewTrialList result = new TlewTrialList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TlewTrialList asAdhoc()
+	{
+		return (TlewTrialList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TlewTrial> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TlewTrialList merge(MithraTransactionalList<TlewTrial> incoming, TopLevelMergeOptions<TlewTrial> mergeOptions)
+	{
+		return (TlewTrialList) super.merge(incoming, mergeOptions);
+	}
+
+	public TlewTrialList getDetachedCopy()
+	{
+		TlewTrialList result = new TlewTrialList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAcctId(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.acctId(), newValue);
+	}
+
+	public void setInstrument(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.instrument(), newValue);
+	}
+
+	public void setPositionType(String newValue)
+	{
+		zSetString(TlewTrialFinder.positionType(), newValue);
+	}
+
+	public void setInstrumentType(String newValue)
+	{
+		zSetString(TlewTrialFinder.instrumentType(), newValue);
+	}
+
+	public void setInstrumentSubType(String newValue)
+	{
+		zSetString(TlewTrialFinder.instrumentSubType(), newValue);
+	}
+
+	public void setAccountNumber(String newValue)
+	{
+		zSetString(TlewTrialFinder.accountNumber(), newValue);
+	}
+
+	public void setTrial(String newValue)
+	{
+		zSetString(TlewTrialFinder.trial(), newValue);
+	}
+
+	public void setLegalEntity(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.legalEntity(), newValue);
+	}
+
+	public void setBaseCurrency(String newValue)
+	{
+		zSetString(TlewTrialFinder.baseCurrency(), newValue);
+	}
+
+	public void setAccountTypeB(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.accountTypeB(), newValue);
+	}
+
+	public void setAccountTypeC(String newValue)
+	{
+		zSetString(TlewTrialFinder.accountTypeC(), newValue);
+	}
+
+	public void setPrimaryIncomeFunction(String newValue)
+	{
+		zSetString(TlewTrialFinder.primaryIncomeFunction(), newValue);
+	}
+
+	public void setCarryTransferFlag(short newValue)
+	{
+		zSetShort(TlewTrialFinder.carryTransferFlag(), newValue);
+	}
+
+	public void setAccountDescription(String newValue)
+	{
+		zSetString(TlewTrialFinder.accountDescription(), newValue);
+	}
+
+	public void setProdSyn(String newValue)
+	{
+		zSetString(TlewTrialFinder.prodSyn(), newValue);
+	}
+
+	public void setProdStkPx(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.prodStkPx(), newValue);
+	}
+
+	public void setProductDescription(String newValue)
+	{
+		zSetString(TlewTrialFinder.productDescription(), newValue);
+	}
+
+	public void setProductIssueCurrency(String newValue)
+	{
+		zSetString(TlewTrialFinder.productIssueCurrency(), newValue);
+	}
+
+	public void setProductProfile(String newValue)
+	{
+		zSetString(TlewTrialFinder.productProfile(), newValue);
+	}
+
+	public void setProdFutCntrctSize(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.prodFutCntrctSize(), newValue);
+	}
+
+	public void setProductMaturityDate(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.productMaturityDate(), newValue);
+	}
+
+	public void setProductIssueCountry(String newValue)
+	{
+		zSetString(TlewTrialFinder.productIssueCountry(), newValue);
+	}
+
+	public void setProductPrimaryMarket(String newValue)
+	{
+		zSetString(TlewTrialFinder.productPrimaryMarket(), newValue);
+	}
+
+	public void setProductUnderlierReferenceId(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.productUnderlierReferenceId(), newValue);
+	}
+
+	public void setProdXplRltn(String newValue)
+	{
+		zSetString(TlewTrialFinder.prodXplRltn(), newValue);
+	}
+
+	public void setProdRelHost(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.prodRelHost(), newValue);
+	}
+
+	public void setProdUndrlrPx(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.prodUndrlrPx(), newValue);
+	}
+
+	public void setPositionQuantity(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.positionQuantity(), newValue);
+	}
+
+	public void setPosMktvlBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posMktvlBase(), newValue);
+	}
+
+	public void setPosCostBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posCostBase(), newValue);
+	}
+
+	public void setPosAccrIntBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posAccrIntBase(), newValue);
+	}
+
+	public void setPosPurchIntBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posPurchIntBase(), newValue);
+	}
+
+	public void setPosNotvlBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posNotvlBase(), newValue);
+	}
+
+	public void setContractualNpv(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.contractualNpv(), newValue);
+	}
+
+	public void setUnstldRwPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.unstldRwPl(), newValue);
+	}
+
+	public void setUnstldFwdPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.unstldFwdPl(), newValue);
+	}
+
+	public void setUnrealFutPerGmiPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.unrealFutPerGmiPl(), newValue);
+	}
+
+	public void setFairValAdj(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fairValAdj(), newValue);
+	}
+
+	public void setAdjTdUnstldFutPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.adjTdUnstldFutPl(), newValue);
+	}
+
+	public void setValuationAdj(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.valuationAdj(), newValue);
+	}
+
+	public void setAccrDiv(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.accrDiv(), newValue);
+	}
+
+	public void setOtherTdAdj(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.otherTdAdj(), newValue);
+	}
+
+	public void setFxRevalAdj(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fxRevalAdj(), newValue);
+	}
+
+	public void setAdjSdResrvUnrealPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.adjSdResrvUnrealPl(), newValue);
+	}
+
+	public void setSdFxUnrealPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.sdFxUnrealPl(), newValue);
+	}
+
+	public void setTotUnrealPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.totUnrealPl(), newValue);
+	}
+
+	public void setPmeTotUnrealPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.pmeTotUnrealPl(), newValue);
+	}
+
+	public void setMtdIntIncm(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdIntIncm(), newValue);
+	}
+
+	public void setMtdIntXpns(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdIntXpns(), newValue);
+	}
+
+	public void setPendingCash(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.pendingCash(), newValue);
+	}
+
+	public void setMtdRealTradingPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdRealTradingPl(), newValue);
+	}
+
+	public void setOtherAdjCntrlTot(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.otherAdjCntrlTot(), newValue);
+	}
+
+	public void setSettledCash(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.settledCash(), newValue);
+	}
+
+	public void setFxPerStockRec(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fxPerStockRec(), newValue);
+	}
+
+	public void setMtdDivIncm(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdDivIncm(), newValue);
+	}
+
+	public void setMtdTransferTax(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdTransferTax(), newValue);
+	}
+
+	public void setCarryCharge(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.carryCharge(), newValue);
+	}
+
+	public void setCarryRebate(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.carryRebate(), newValue);
+	}
+
+	public void setLtdSdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.ltdSdUnreal(), newValue);
+	}
+
+	public void setActiveMtdRec(short newValue)
+	{
+		zSetShort(TlewTrialFinder.activeMtdRec(), newValue);
+	}
+
+	public void setProdGlobalClass(long newValue)
+	{
+		zSetLong(TlewTrialFinder.prodGlobalClass(), newValue);
+	}
+
+	public void setProdScrpPlPostClass(String newValue)
+	{
+		zSetString(TlewTrialFinder.prodScrpPlPostClass(), newValue);
+	}
+
+	public void setProdScrpBsPostClass(String newValue)
+	{
+		zSetString(TlewTrialFinder.prodScrpBsPostClass(), newValue);
+	}
+
+	public void setTlewTrialCreate(short newValue)
+	{
+		zSetShort(TlewTrialFinder.tlewTrialCreate(), newValue);
+	}
+
+	public void setTlewTrialChange(short newValue)
+	{
+		zSetShort(TlewTrialFinder.tlewTrialChange(), newValue);
+	}
+
+	public void setOffsetPayRecv(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.offsetPayRecv(), newValue);
+	}
+
+	public void setSegregatedCash(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.segregatedCash(), newValue);
+	}
+
+	public void setBusDate(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.busDate(), newValue);
+	}
+
+	public void setPosXrate(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posXrate(), newValue);
+	}
+
+	public void setProdType(String newValue)
+	{
+		zSetString(TlewTrialFinder.prodType(), newValue);
+	}
+
+	public void setRegCostBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.regCostBase(), newValue);
+	}
+
+	public void setFwdCostBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fwdCostBase(), newValue);
+	}
+
+	public void setRegQty(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.regQty(), newValue);
+	}
+
+	public void setFwdQty(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fwdQty(), newValue);
+	}
+
+	public void setGaapTdMktvlBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.gaapTdMktvlBase(), newValue);
+	}
+
+	public void setOpenIntBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.openIntBase(), newValue);
+	}
+
+	public void setLocalCurrTime(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.localCurrTime(), newValue);
+	}
+
+	public void setMtdSdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdSdUnreal(), newValue);
+	}
+
+	public void setFwdQtyGt30(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fwdQtyGt30(), newValue);
+	}
+
+	public void setFwdCostGt30Base(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fwdCostGt30Base(), newValue);
+	}
+
+	public void setProdUndrClass(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.prodUndrClass(), newValue);
+	}
+
+	public void setGmiUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.gmiUnreal(), newValue);
+	}
+
+	public void setMtdTdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdTdUnreal(), newValue);
+	}
+
+	public void setParaProdType(String newValue)
+	{
+		zSetString(TlewTrialFinder.paraProdType(), newValue);
+	}
+
+	public void setLtdLcmTdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.ltdLcmTdUnreal(), newValue);
+	}
+
+	public void setMtdLcmTdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdLcmTdUnreal(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.processingDateTo(), newValue);
+	}
+
+	public void setProdStkPxNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.prodStkPx());
+	}
+
+	public void setProdFutCntrctSizeNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.prodFutCntrctSize());
+	}
+
+	public void setProductUnderlierReferenceIdNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.productUnderlierReferenceId());
+	}
+
+	public void setProdRelHostNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.prodRelHost());
+	}
+
+	public void setProdUndrlrPxNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.prodUndrlrPx());
+	}
+
+	public void setPositionQuantityNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.positionQuantity());
+	}
+
+	public void setPosMktvlBaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.posMktvlBase());
+	}
+
+	public void setPosCostBaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.posCostBase());
+	}
+
+	public void setPosAccrIntBaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.posAccrIntBase());
+	}
+
+	public void setPosPurchIntBaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.posPurchIntBase());
+	}
+
+	public void setPosNotvlBaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.posNotvlBase());
+	}
+
+	public void setContractualNpvNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.contractualNpv());
+	}
+
+	public void setUnstldRwPlNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.unstldRwPl());
+	}
+
+	public void setUnstldFwdPlNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.unstldFwdPl());
+	}
+
+	public void setUnrealFutPerGmiPlNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.unrealFutPerGmiPl());
+	}
+
+	public void setFairValAdjNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.fairValAdj());
+	}
+
+	public void setAdjTdUnstldFutPlNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.adjTdUnstldFutPl());
+	}
+
+	public void setValuationAdjNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.valuationAdj());
+	}
+
+	public void setAccrDivNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.accrDiv());
+	}
+
+	public void setOtherTdAdjNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.otherTdAdj());
+	}
+
+	public void setFxRevalAdjNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.fxRevalAdj());
+	}
+
+	public void setAdjSdResrvUnrealPlNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.adjSdResrvUnrealPl());
+	}
+
+	public void setSdFxUnrealPlNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.sdFxUnrealPl());
+	}
+
+	public void setTotUnrealPlNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.totUnrealPl());
+	}
+
+	public void setPmeTotUnrealPlNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.pmeTotUnrealPl());
+	}
+
+	public void setMtdIntIncmNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.mtdIntIncm());
+	}
+
+	public void setMtdIntXpnsNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.mtdIntXpns());
+	}
+
+	public void setPendingCashNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.pendingCash());
+	}
+
+	public void setMtdRealTradingPlNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.mtdRealTradingPl());
+	}
+
+	public void setOtherAdjCntrlTotNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.otherAdjCntrlTot());
+	}
+
+	public void setSettledCashNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.settledCash());
+	}
+
+	public void setFxPerStockRecNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.fxPerStockRec());
+	}
+
+	public void setMtdDivIncmNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.mtdDivIncm());
+	}
+
+	public void setMtdTransferTaxNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.mtdTransferTax());
+	}
+
+	public void setTlewTrialChangeNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.tlewTrialChange());
+	}
+
+	public void setOffsetPayRecvNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.offsetPayRecv());
+	}
+
+	public void setSegregatedCashNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.segregatedCash());
+	}
+
+	public void setPosXrateNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.posXrate());
+	}
+
+	public void setRegCostBaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.regCostBase());
+	}
+
+	public void setFwdCostBaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.fwdCostBase());
+	}
+
+	public void setRegQtyNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.regQty());
+	}
+
+	public void setFwdQtyNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.fwdQty());
+	}
+
+	public void setGaapTdMktvlBaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.gaapTdMktvlBase());
+	}
+
+	public void setOpenIntBaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.openIntBase());
+	}
+
+	public void setMtdSdUnrealNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.mtdSdUnreal());
+	}
+
+	public void setFwdQtyGt30Null()
+	{
+		zSetAttributeNull(TlewTrialFinder.fwdQtyGt30());
+	}
+
+	public void setFwdCostGt30BaseNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.fwdCostGt30Base());
+	}
+
+	public void setProdUndrClassNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.prodUndrClass());
+	}
+
+	public void setGmiUnrealNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.gmiUnreal());
+	}
+
+	public void setMtdTdUnrealNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.mtdTdUnreal());
+	}
+
+	public void setLtdLcmTdUnrealNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.ltdLcmTdUnreal());
+	}
+
+	public void setMtdLcmTdUnrealNull()
+	{
+		zSetAttributeNull(TlewTrialFinder.mtdLcmTdUnreal());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,406 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TrailingSpacesData
+implements MithraDataObject
+{
+	private String charNotNull;
+	private String charNullable;
+	private String description;
+	private int id;
+	private String varCharNotNull;
+	private String varCharNullable;
+	public boolean isCharNotNullNull()
+	{
+		return this.getCharNotNull() == null;
+	}
+
+	public boolean isCharNullableNull()
+	{
+		return this.getCharNullable() == null;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isVarCharNotNullNull()
+	{
+		return this.getVarCharNotNull() == null;
+	}
+
+	public boolean isVarCharNullableNull()
+	{
+		return this.getVarCharNullable() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.charNotNull);
+		out.writeObject(this.charNullable);
+		out.writeObject(this.description);
+		out.writeInt(this.id);
+		out.writeObject(this.varCharNotNull);
+		out.writeObject(this.varCharNullable);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getCharNotNull()
+	{
+		return this.charNotNull;
+	}
+
+	public int zGetCharNotNullAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(charNotNull);
+	}
+
+	public void setCharNotNull(String value)
+	{
+		this.charNotNull = StringPool.getInstance().getOrAddToCache(value, TrailingSpacesFinder.isFullCache());
+	}
+
+	public void setCharNotNullNull()
+	{
+		this.setCharNotNull(null);
+	}
+
+	public String getCharNullable()
+	{
+		return this.charNullable;
+	}
+
+	public int zGetCharNullableAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(charNullable);
+	}
+
+	public void setCharNullable(String value)
+	{
+		this.charNullable = StringPool.getInstance().getOrAddToCache(value, TrailingSpacesFinder.isFullCache());
+	}
+
+	public void setCharNullableNull()
+	{
+		this.setCharNullable(null);
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, TrailingSpacesFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getVarCharNotNull()
+	{
+		return this.varCharNotNull;
+	}
+
+	public int zGetVarCharNotNullAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(varCharNotNull);
+	}
+
+	public void setVarCharNotNull(String value)
+	{
+		this.varCharNotNull = StringPool.getInstance().getOrAddToCache(value, TrailingSpacesFinder.isFullCache());
+	}
+
+	public void setVarCharNotNullNull()
+	{
+		this.setVarCharNotNull(null);
+	}
+
+	public String getVarCharNullable()
+	{
+		return this.varCharNullable;
+	}
+
+	public int zGetVarCharNullableAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(varCharNullable);
+	}
+
+	public void setVarCharNullable(String value)
+	{
+		this.varCharNullable = StringPool.getInstance().getOrAddToCache(value, TrailingSpacesFinder.isFullCache());
+	}
+
+	public void setVarCharNullableNull()
+	{
+		this.setVarCharNullable(null);
+	}
+
+	protected void copyInto(TrailingSpacesData copy, boolean withRelationships)
+	{
+		copy.charNotNull = this.charNotNull;
+		copy.charNullable = this.charNullable;
+		copy.description = this.description;
+		copy.id = this.id;
+		copy.varCharNotNull = this.varCharNotNull;
+		copy.varCharNullable = this.varCharNullable;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.charNotNull = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TrailingSpacesFinder.isFullCache());
+		this.charNullable = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TrailingSpacesFinder.isFullCache());
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TrailingSpacesFinder.isFullCache());
+		this.id = in.readInt();
+		this.varCharNotNull = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TrailingSpacesFinder.isFullCache());
+		this.varCharNullable = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TrailingSpacesFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TrailingSpacesData otherData = (TrailingSpacesData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TrailingSpacesData trailingSpacesData = (TrailingSpacesData) newData;
+		this.setCharNotNull(trailingSpacesData.getCharNotNull());
+		this.setCharNullable(trailingSpacesData.getCharNullable());
+		this.setDescription(trailingSpacesData.getDescription());
+		this.setVarCharNotNull(trailingSpacesData.getVarCharNotNull());
+		this.setVarCharNullable(trailingSpacesData.getVarCharNullable());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TrailingSpacesData other = (TrailingSpacesData) newData;
+		if (!isCharNotNullNull() ? !getCharNotNull().equals(other.getCharNotNull()) : !other.isCharNotNullNull())
+		{
+			return true;
+		}
+
+		if (!isCharNullableNull() ? !getCharNullable().equals(other.getCharNullable()) : !other.isCharNullableNull())
+		{
+			return true;
+		}
+
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isVarCharNotNullNull() ? !getVarCharNotNull().equals(other.getVarCharNotNull()) : !other.isVarCharNotNullNull())
+		{
+			return true;
+		}
+
+		if (!isVarCharNullableNull() ? !getVarCharNullable().equals(other.getVarCharNullable()) : !other.isVarCharNullableNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TrailingSpacesData copy = new TrailingSpacesData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TrailingSpacesData copy = new TrailingSpacesData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.bcp.TrailingSpacesData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TrailingSpacesFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TrailingSpacesFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.bcp.TrailingSpacesData";
+	}
+}
@@ -0,0 +1,340 @@
+package com.gs.fw.common.mithra.test.domain.child;
+import com.gs.fw.common.mithra.test.domain.parent.*;
+import com.gs.fw.common.mithra.test.domain.parent.Parent;
+import com.gs.fw.common.mithra.test.domain.parent.ParentAbstract;
+import com.gs.fw.common.mithra.test.domain.parent.ParentData;
+import com.gs.fw.common.mithra.test.domain.parent.ParentFinder;
+import com.gs.fw.common.mithra.test.domain.parent.ParentList;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWi;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiData;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiFinder;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiImpl;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiImplAbstract;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiList;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiListImpl;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ChildAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String name;
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.name);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ChildData data = new ChildData();
+		data.setName(name);
+		return data;
+	}
+
+	public Child getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ChildAbstract copy = (ChildAbstract) ChildFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Child)copy;
+	}
+
+	protected void zSetFromChildData(ChildData data)
+	{
+		this.setFromChildData(data);
+	}
+
+	public void setFromChildData(ChildData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		name = data.getName();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ChildFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromChildData((ChildData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, ChildFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Parent.childName = this.name</pre>
+	* @see Parent#getChildren() reverse relationship Parent.getChildren()
+	* @return The parent
+	*/
+	public Parent getParent()
+	{
+		Parent _result = null;
+		if (_relationships != null)
+		{
+			_result = (Parent)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = ParentFinder.zFindOneForRelationship(zGetParentOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentWi.childName = this.name</pre>
+	* @see ParentWi#getChildrenWithoutInterfaces() reverse relationship ParentWi.getChildrenWithoutInterfaces()
+	* @return The parent with interface
+	*/
+	public ParentWi getParentWithInterface()
+	{
+		ParentWiImpl _result = null;
+		if (_relationships != null)
+		{
+			_result = (ParentWiImpl)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = ParentWiFinder.zFindOneForRelationship(zGetParentWithInterfaceOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setParent(Parent parent)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = parent;
+		if (parent == null)
+		{
+			this.setName(null);
+		}
+		else
+		{
+			this.setName(parent.getChildName());
+		}
+	}
+
+	public void setParentWithInterface(ParentWi parentWithInterface)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = parentWithInterface;
+		if (parentWithInterface == null)
+		{
+			this.setName(null);
+		}
+		else
+		{
+			this.setName(parentWithInterface.getChildName());
+		}
+	}
+
+	public Operation zGetParentOperation()
+	{
+		ChildAbstract _data = this;
+		return ParentFinder.childName().eq(_data.getName());
+	}
+
+	public Operation zGetParentWithInterfaceOperation()
+	{
+		ChildAbstract _data = this;
+		return ParentWiFinder.childName().eq(_data.getName());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ChildData childData = (ChildData) newData;
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "name: "+"'"+getName()+"'"+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeObject(this.name);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ChildFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ChildFinder.isFullCache());
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ChildFinder.name().eq(this.getName());
+			return ChildFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,702 @@
+package com.gs.fw.common.mithra.test.domain.child;
+import com.gs.fw.common.mithra.test.domain.parent.*;
+import com.gs.fw.common.mithra.test.domain.parent.Parent;
+import com.gs.fw.common.mithra.test.domain.parent.ParentAbstract;
+import com.gs.fw.common.mithra.test.domain.parent.ParentData;
+import com.gs.fw.common.mithra.test.domain.parent.ParentFinder;
+import com.gs.fw.common.mithra.test.domain.parent.ParentList;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWi;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiData;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiFinder;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiImpl;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiImplAbstract;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiList;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiListImpl;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ChildFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/child/Child";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.child.Child";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.child.Child");
+	private static final ChildSingleFinder<Child, Object, Child> finder = new ChildSingleFinder<Child, Object, Child>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ChildFinder.ChildRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addRelationshipName("parent");
+		finderMethodMap.addRelationshipName("parentWithInterface");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Child findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Child findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ChildList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ChildList) finder.findMany(operation);
+	}
+
+	public static ChildList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ChildList) finder.findManyBypassCache(operation);
+	}
+
+	private static Child findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Child) FinderUtils.findOne(found);
+	}
+
+	public static Child findByPrimaryKey(String name)
+	{
+		return finder.findByPrimaryKey(name);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Child _castedTargetData = (Child) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getName()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static Child zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Child) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ChildRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Child, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> name;
+		private ChildParentFinderSubclass<ParentOwnerType> parent;
+		private ChildParentWithInterfaceFinderSubclass<ParentOwnerType> parentWithInterface;
+		public ChildRelatedFinder()
+		{
+			super();
+		}
+
+		public ChildRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.child.ChildFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ChildFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ChildFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ChildFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[1];
+			attributes[0] = this.name();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.parent());
+				relatedFinders.add(this.parentWithInterface());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Child findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ChildFinder.findOne(operation, false);
+		}
+
+		public Child findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ChildFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Child> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ChildList((Operation) operation);
+		}
+
+		public MithraList<? extends Child> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ChildList result = (ChildList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Child> constructEmptyList()
+		{
+			return new ChildList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 328511091;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,30,true, false) :
+					new MappedStringAttribute(ChildFinder.name(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parent");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain.parent", "Parent", "children");
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public ParentFinder.ParentSingleFinderForRelatedClasses<ParentOwnerType, Parent, Child> parent()
+		{
+			ChildParentFinderSubclass<ParentOwnerType> result = this.parent;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentFinder.zGetParentChildrenMapper());
+				newMapper.setToMany(false);
+				result = new ChildParentFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parent = result;
+			}
+
+			return result;
+		}
+
+		public ParentWiFinder.ParentWiSingleFinderForRelatedClasses<ParentOwnerType, ParentWi, Child> parentWithInterface()
+		{
+			ChildParentWithInterfaceFinderSubclass<ParentOwnerType> result = this.parentWithInterface;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentWiFinder.zGetParentWiChildrenWithoutInterfacesMapper());
+				newMapper.setToMany(false);
+				result = new ChildParentWithInterfaceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parentWithInterface = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ChildFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ChildFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ChildCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ChildRelatedFinder<ParentOwnerType, ReturnType, ChildList, OwnerType>
+	{
+		public ChildCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ChildCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ChildCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ChildCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ChildSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ChildRelatedFinder<ParentOwnerType, ReturnType, ChildList, OwnerType>
+	implements ToOneFinder
+	{
+		public ChildSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ChildSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Child other)
+		{
+			return this.name().eq(other.getName())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Child findByPrimaryKey(String name)
+		{
+			Child _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (name != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(name);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Child) _related;
+			if (_related == null)
+			{
+				_op = this.name().eq(name);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ChildSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ChildSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ChildSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to CHILD."NAME" **/
+	public static StringAttribute<Child> name()
+	{
+		return finder.name();
+	}
+
+	public static ParentFinder.ParentSingleFinderForRelatedClasses<Child, Parent, Child> parent()
+	{
+		return finder.parent();
+	}
+
+	public static class ChildParentFinderSubclass<ParentOwnerType> extends ParentFinder.ParentSingleFinderForRelatedClasses<ParentOwnerType, Parent, Child>
+	{
+		public ChildParentFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parent";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ChildParentFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Parent plainValueOf(Child _obj)
+		{
+			return _obj.getParent();
+		}
+
+		protected ParentList plainListValueOf(Object _obj)
+		{
+			return ((ChildList)_obj).getParents();
+		}
+	}
+
+	public static ParentWiFinder.ParentWiSingleFinderForRelatedClasses<Child, ParentWi, Child> parentWithInterface()
+	{
+		return finder.parentWithInterface();
+	}
+
+	public static class ChildParentWithInterfaceFinderSubclass<ParentOwnerType> extends ParentWiFinder.ParentWiSingleFinderForRelatedClasses<ParentOwnerType, ParentWi, Child>
+	{
+		public ChildParentWithInterfaceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parentWithInterface";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ChildParentWithInterfaceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ParentWi plainValueOf(Child _obj)
+		{
+			return _obj.getParentWithInterface();
+		}
+
+		protected ParentWiList plainListValueOf(Object _obj)
+		{
+			return ((ChildList)_obj).getParentWithInterfaces();
+		}
+	}
+
+	public static Operation eq(Child other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(name());
+	}
+
+	public static ChildSingleFinder<Child, Object, Child> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			name()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			name()
+			, name()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ParentFinder.getFinderInstance(),ParentWiFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ParentFinder.getFinderInstance(),ParentWiFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.child.Child");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
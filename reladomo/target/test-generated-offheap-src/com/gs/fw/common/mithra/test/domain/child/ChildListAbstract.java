@@ -0,0 +1,143 @@
+package com.gs.fw.common.mithra.test.domain.child;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.parent.*;
+import com.gs.fw.common.mithra.test.domain.parent.Parent;
+import com.gs.fw.common.mithra.test.domain.parent.ParentAbstract;
+import com.gs.fw.common.mithra.test.domain.parent.ParentData;
+import com.gs.fw.common.mithra.test.domain.parent.ParentFinder;
+import com.gs.fw.common.mithra.test.domain.parent.ParentList;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWi;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiData;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiFinder;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiImpl;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiImplAbstract;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiList;
+import com.gs.fw.common.mithra.test.domain.parent.ParentWiListImpl;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ChildListAbstract extends DelegatingList<Child> implements MithraList<Child>
+{
+	public ChildListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ChildListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ChildListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ChildListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Child[] elements()
+	{
+		Child[] result = new Child[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ChildList intersection(ChildList another)
+	{
+		return (ChildList)super.intersection(another);
+	}
+
+	public Child getChildAt(int index)
+	{
+		return (Child)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Parent.childName = this.name</pre>
+	* @see Parent#getChildren() reverse relationship Parent.getChildren()
+	* @return The parent
+	*/
+	public ParentList getParents()
+	{
+		return (ParentList) this.zGetDelegated().resolveRelationship(this, ChildFinder.parent());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentWi.childName = this.name</pre>
+	* @see ParentWi#getChildrenWithoutInterfaces() reverse relationship ParentWi.getChildrenWithoutInterfaces()
+	* @return The parent with interface
+	*/
+	public ParentWiList getParentWithInterfaces()
+	{
+		return (ParentWiList) this.zGetDelegated().resolveRelationship(this, ChildFinder.parentWithInterface());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ChildFinder.getMithraObjectPortal();
+	}
+
+	public ChildList getNonPersistentCopy()
+	{
+		ChildList result = new ChildList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ChildList asAdhoc()
+	{
+		return (ChildList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Child> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,418 @@
+package com.gs.fw.common.mithra.test.domain.child;
+import com.gs.fw.common.mithra.test.domain.criters.PetType;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeAbstract;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeData;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeFinder;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ChildTypeAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private byte aliveByte;
+	private int id;
+	private boolean isAlive;
+	private String name;
+	private int parentId;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isParentIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isIsAliveNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isAliveByteNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeByte(this.aliveByte);
+		out.writeInt(this.id);
+		out.writeBoolean(this.isAlive);
+		out.writeObject(this.name);
+		out.writeInt(this.parentId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ChildTypeData data = new ChildTypeData();
+		data.setAliveByte(aliveByte);
+		data.setId(id);
+		data.setIsAlive(isAlive);
+		data.setName(name);
+		data.setParentId(parentId);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public ChildType getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ChildTypeAbstract copy = (ChildTypeAbstract) ChildTypeFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ChildType)copy;
+	}
+
+	protected void zSetFromChildTypeData(ChildTypeData data)
+	{
+		this.setFromChildTypeData(data);
+	}
+
+	public void setFromChildTypeData(ChildTypeData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		aliveByte = data.getAliveByte();
+		id = data.getId();
+		isAlive = data.isIsAlive();
+		name = data.getName();
+		parentId = data.getParentId();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ChildTypeFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromChildTypeData((ChildTypeData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public byte getAliveByte()
+	{
+		if (isAliveByteNull()) throwNullPrimitiveException("aliveByte");
+		return this.aliveByte;
+	}
+
+	public void setAliveByte(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.aliveByte = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public boolean isIsAlive()
+	{
+		if (isIsAliveNull()) throwNullPrimitiveException("isAlive");
+		return this.isAlive;
+	}
+
+	public void setIsAlive(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.isAlive = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, ChildTypeFinder.isFullCache());
+	}
+
+	public int getParentId()
+	{
+		if (isParentIdNull()) throwNullPrimitiveException("parentId");
+		return this.parentId;
+	}
+
+	public void setParentId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.parentId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setParentIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setIsAliveNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setAliveByteNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PetType.ownerId = this.id and this.isAlive=true</pre>
+	* @return pets
+	*/
+	public PetTypeList getPets()
+	{
+		PetTypeList _result = null;
+		if (_relationships != null)
+		{
+			_result = (PetTypeList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isIsAliveNull() && this.isIsAlive()==true)
+			{
+				{
+					_result = new PetTypeList(zGetPetsOperation());
+					_result.zSetForRelationship();
+				}
+			}
+			else 
+			{
+				_result = new PetTypeList( new None (
+					PetTypeFinder.id())
+				);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setPets(PetTypeList pets)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = pets;
+	}
+
+	public Operation zGetPetsOperation()
+	{
+		ChildTypeAbstract _data = this;
+		return PetTypeFinder.ownerId().eq(_data.getId());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ChildTypeData childTypeData = (ChildTypeData) newData;
+		if (isNullBits0 != childTypeData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (aliveByte != childTypeData.getAliveByte())
+		{
+			return true;
+		}
+
+		if (isAlive != childTypeData.isIsAlive())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(childTypeData.getName()) : !childTypeData.isNameNull())
+		{
+			return true;
+		}
+
+		if (parentId != childTypeData.getParentId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.aliveByte = in.readByte();
+			this.id = in.readInt();
+			this.isAlive = in.readBoolean();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ChildTypeFinder.isFullCache());
+			this.parentId = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ChildTypeFinder.id().eq(this.getId());
+			return ChildTypeFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,823 @@
+package com.gs.fw.common.mithra.test.domain.child;
+import com.gs.fw.common.mithra.test.domain.criters.PetType;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeAbstract;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeData;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeFinder;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ChildTypeFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/child/ChildType";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.child.ChildType";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.child.ChildType");
+	private static final ChildTypeSingleFinder<ChildType, Object, ChildType> finder = new ChildTypeSingleFinder<ChildType, Object, ChildType>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ChildTypeFinder.ChildTypeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("parentId");
+		finderMethodMap.addNormalAttributeName("isAlive");
+		finderMethodMap.addNormalAttributeName("aliveByte");
+		finderMethodMap.addRelationshipName("pets");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = ChildTypeFinder.id().constructEqualityMapper(PetTypeFinder.ownerId());
+			result[1] = PetTypeFinder.ownerId().constructEqualityMapper(ChildTypeFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = ChildTypeFinder.isAlive().eq(true);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ChildType findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ChildType findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ChildTypeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ChildTypeList) finder.findMany(operation);
+	}
+
+	public static ChildTypeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ChildTypeList) finder.findManyBypassCache(operation);
+	}
+
+	private static ChildType findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ChildType) FinderUtils.findOne(found);
+	}
+
+	public static ChildType findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ChildType _castedTargetData = (ChildType) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ChildType zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ChildType) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ChildTypeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ChildType, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private IntegerAttribute<ParentOwnerType> parentId;
+		private BooleanAttribute<ParentOwnerType> isAlive;
+		private ByteAttribute<ParentOwnerType> aliveByte;
+		private ChildTypePetsFinderSubclass<ParentOwnerType> pets;
+		public ChildTypeRelatedFinder()
+		{
+			super();
+		}
+
+		public ChildTypeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.child.ChildTypeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ChildTypeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ChildTypeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ChildTypeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.id();
+			attributes[1] = this.name();
+			attributes[2] = this.parentId();
+			attributes[3] = this.isAlive();
+			attributes[4] = this.aliveByte();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.pets());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ChildType findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ChildTypeFinder.findOne(operation, false);
+		}
+
+		public ChildType findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ChildTypeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ChildType> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ChildTypeList((Operation) operation);
+		}
+
+		public MithraList<? extends ChildType> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ChildTypeList result = (ChildTypeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ChildType> constructEmptyList()
+		{
+			return new ChildTypeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 940644543;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChildTypeFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(ChildTypeFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> parentId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.parentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PARENT_ID","","parentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ChildTypeFinder.parentId(), this.mapper, this.zGetValueSelector());
+				this.parentId = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> isAlive()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.isAlive;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("IS_ALIVE","","isAlive",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(ChildTypeFinder.isAlive(), this.mapper, this.zGetValueSelector());
+				this.isAlive = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> aliveByte()
+		{
+			ByteAttribute<ParentOwnerType> result = this.aliveByte;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("IS_ALIVE_BYTE","","aliveByte",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedByteAttribute(ChildTypeFinder.aliveByte(), this.mapper, this.zGetValueSelector());
+				this.aliveByte = result;
+			}
+
+			return result;
+		}
+
+		public PetTypeFinder.PetTypeCollectionFinderForRelatedClasses<ParentOwnerType, PetTypeList, ChildType> pets()
+		{
+			ChildTypePetsFinderSubclass<ParentOwnerType> result = this.pets;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ChildTypeFinder.zGetChildTypePetsReverseMapper());
+				newMapper.setToMany(true);
+				result = new ChildTypePetsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.pets = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ChildTypeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ChildTypeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ChildTypeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ChildTypeRelatedFinder<ParentOwnerType, ReturnType, ChildTypeList, OwnerType>
+	{
+		public ChildTypeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ChildTypeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ChildTypeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ChildTypeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ChildTypeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ChildTypeRelatedFinder<ParentOwnerType, ReturnType, ChildTypeList, OwnerType>
+	implements ToOneFinder
+	{
+		public ChildTypeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ChildTypeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ChildType other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ChildType findByPrimaryKey(int id)
+		{
+			ChildType _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ChildType) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ChildTypeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ChildTypeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ChildTypeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper petsReverseMapper = null;
+	public static Mapper zGetChildTypePetsReverseMapper()
+	{
+		if (petsReverseMapper == null)
+		{
+			petsReverseMapper = zConstructChildTypePetsReverseMapper();
+		}
+
+		return petsReverseMapper;
+	}
+
+	private static Mapper petsMapper = null;
+	public static Mapper zGetChildTypePetsMapper()
+	{
+		if (petsMapper == null)
+		{
+			petsMapper = zConstructChildTypePetsMapper();
+		}
+
+		return petsMapper;
+	}
+
+	private static Mapper petsPureReverseMapper = null;
+	public static Mapper zGetChildTypePetsPureReverseMapper()
+	{
+		if (petsPureReverseMapper == null)
+		{
+			petsPureReverseMapper = zConstructChildTypePetsPureReverseMapper();
+		}
+
+		return petsPureReverseMapper;
+	}
+
+	private static Mapper zConstructChildTypePetsPureReverseMapper()
+	{
+		Mapper petsMapper = ChildTypeFinder.zGetConstantJoin(0);
+		petsMapper.setName("pets");
+		return petsMapper;
+	}
+
+	private static Mapper zConstructChildTypePetsReverseMapper()
+	{
+		Mapper petsMapperInnerMapper = ChildTypeFinder.zGetConstantJoin(0);
+		Mapper petsMapper = new FilteredMapper(petsMapperInnerMapper, ChildTypeFinder.zGetConstantOperation(0), null);
+		petsMapper.setName("pets");
+		return petsMapper;
+	}
+
+	private static Mapper zConstructChildTypePetsMapper()
+	{
+		Mapper petsMapperInnerMapper = ChildTypeFinder.zGetConstantJoin(1);
+		Mapper petsMapper = new FilteredMapper(petsMapperInnerMapper, null, ChildTypeFinder.zGetConstantOperation(0));
+		petsMapper.setName("pets_Reverse");
+		return petsMapper;
+	}
+
+	/** maps to CHILD_TYPE.ID **/
+	public static IntegerAttribute<ChildType> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to CHILD_TYPE."NAME" **/
+	public static StringAttribute<ChildType> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to CHILD_TYPE.PARENT_ID **/
+	public static IntegerAttribute<ChildType> parentId()
+	{
+		return finder.parentId();
+	}
+
+	/** maps to CHILD_TYPE.IS_ALIVE **/
+	public static BooleanAttribute<ChildType> isAlive()
+	{
+		return finder.isAlive();
+	}
+
+	/** maps to CHILD_TYPE.IS_ALIVE_BYTE **/
+	public static ByteAttribute<ChildType> aliveByte()
+	{
+		return finder.aliveByte();
+	}
+
+	public static PetTypeFinder.PetTypeCollectionFinderForRelatedClasses<ChildType, PetTypeList, ChildType> pets()
+	{
+		return finder.pets();
+	}
+
+	public static class ChildTypePetsFinderSubclass<ParentOwnerType> extends PetTypeFinder.PetTypeCollectionFinderForRelatedClasses<ParentOwnerType, PetTypeList, ChildType>
+	{
+		public ChildTypePetsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "pets";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ChildTypePetsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PetTypeList plainValueOf(ChildType _obj)
+		{
+			return _obj.getPets();
+		}
+
+		protected PetTypeList plainListValueOf(Object _obj)
+		{
+			return ((ChildTypeList)_obj).getPets();
+		}
+	}
+
+	public static Operation eq(ChildType other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ChildTypeSingleFinder<ChildType, Object, ChildType> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			id()
+			, isAlive()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			parentId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.child.ChildType");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
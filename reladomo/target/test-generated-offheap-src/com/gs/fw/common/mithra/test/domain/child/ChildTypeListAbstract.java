@@ -0,0 +1,123 @@
+package com.gs.fw.common.mithra.test.domain.child;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.criters.PetType;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeAbstract;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeData;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeFinder;
+import com.gs.fw.common.mithra.test.domain.criters.PetTypeList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ChildTypeListAbstract extends DelegatingList<ChildType> implements MithraList<ChildType>
+{
+	public ChildTypeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ChildTypeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ChildTypeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ChildTypeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ChildType[] elements()
+	{
+		ChildType[] result = new ChildType[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ChildTypeList intersection(ChildTypeList another)
+	{
+		return (ChildTypeList)super.intersection(another);
+	}
+
+	public ChildType getChildTypeAt(int index)
+	{
+		return (ChildType)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PetType.ownerId = this.id and this.isAlive=true</pre>
+	* @return pets
+	*/
+	public PetTypeList getPets()
+	{
+		return (PetTypeList) this.zGetDelegated().resolveRelationship(this, ChildTypeFinder.pets());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ChildTypeFinder.getMithraObjectPortal();
+	}
+
+	public ChildTypeList getNonPersistentCopy()
+	{
+		ChildTypeList result = new ChildTypeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ChildTypeList asAdhoc()
+	{
+		return (ChildTypeList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ChildType> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
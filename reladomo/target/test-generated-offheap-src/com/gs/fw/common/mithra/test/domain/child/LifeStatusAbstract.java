@@ -0,0 +1,274 @@
+package com.gs.fw.common.mithra.test.domain.child;
+import com.gs.fw.common.mithra.test.domain.parent.*;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class LifeStatusAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private byte aliveByte;
+	private String code;
+	private boolean isAlive;
+	public boolean isCodeNull()
+	{
+		return this.getCode() == null;
+	}
+
+	public boolean isIsAliveNull()
+	{
+		return false;
+	}
+
+	public boolean isAliveByteNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeByte(this.aliveByte);
+		out.writeObject(this.code);
+		out.writeBoolean(this.isAlive);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		LifeStatusData data = new LifeStatusData();
+		data.setAliveByte(aliveByte);
+		data.setCode(code);
+		data.setIsAlive(isAlive);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public LifeStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		LifeStatusAbstract copy = (LifeStatusAbstract) LifeStatusFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (LifeStatus)copy;
+	}
+
+	protected void zSetFromLifeStatusData(LifeStatusData data)
+	{
+		this.setFromLifeStatusData(data);
+	}
+
+	public void setFromLifeStatusData(LifeStatusData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		aliveByte = data.getAliveByte();
+		code = data.getCode();
+		isAlive = data.isIsAlive();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return LifeStatusFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromLifeStatusData((LifeStatusData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public byte getAliveByte()
+	{
+		if (isAliveByteNull()) throwNullPrimitiveException("aliveByte");
+		return this.aliveByte;
+	}
+
+	public void setAliveByte(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.aliveByte = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getCode()
+	{
+		return this.code;
+	}
+
+	public void setCode(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.code = StringPool.getInstance().getOrAddToCache(value, LifeStatusFinder.isFullCache());
+	}
+
+	public boolean isIsAlive()
+	{
+		return this.isAlive;
+	}
+
+	public void setIsAlive(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.isAlive = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setAliveByteNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final LifeStatusData lifeStatusData = (LifeStatusData) newData;
+		if (isNullBits0 != lifeStatusData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (aliveByte != lifeStatusData.getAliveByte())
+		{
+			return true;
+		}
+
+		if (!isCodeNull() ? !getCode().equals(lifeStatusData.getCode()) : !lifeStatusData.isCodeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "isAlive: "+(""+isIsAlive())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeBoolean(this.isAlive);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.aliveByte = in.readByte();
+			this.code = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LifeStatusFinder.isFullCache());
+			this.isAlive = in.readBoolean();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.isAlive = in.readBoolean();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = LifeStatusFinder.isAlive().eq(this.isIsAlive());
+			return LifeStatusFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,313 @@
+package com.gs.fw.common.mithra.test.domain.child;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.parent.*;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class LifeStatusData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private byte aliveByte;
+	private String code;
+	private boolean isAlive;
+	public boolean isCodeNull()
+	{
+		return this.getCode() == null;
+	}
+
+	public boolean isIsAliveNull()
+	{
+		return false;
+	}
+
+	public boolean isAliveByteNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeByte(this.aliveByte);
+		out.writeObject(this.code);
+		out.writeBoolean(this.isAlive);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public byte getAliveByte()
+	{
+		return this.aliveByte;
+	}
+
+	public void setAliveByte(byte value)
+	{
+		this.aliveByte = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getCode()
+	{
+		return this.code;
+	}
+
+	public int zGetCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(code);
+	}
+
+	public void setCode(String value)
+	{
+		this.code = StringPool.getInstance().getOrAddToCache(value, LifeStatusFinder.isFullCache());
+	}
+
+	public void setCodeNull()
+	{
+		this.setCode(null);
+	}
+
+	public boolean isIsAlive()
+	{
+		return this.isAlive;
+	}
+
+	public void setIsAlive(boolean value)
+	{
+		this.isAlive = value;
+	}
+
+	public void setIsAliveNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void setAliveByteNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(LifeStatusData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.aliveByte = this.aliveByte;
+		copy.code = this.code;
+		copy.isAlive = this.isAlive;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.aliveByte = in.readByte();
+		this.code = StringPool.getInstance().getOrAddToCache((String)in.readObject(), LifeStatusFinder.isFullCache());
+		this.isAlive = in.readBoolean();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final LifeStatusData otherData = (LifeStatusData) other;
+		if (isIsAlive() != otherData.isIsAlive())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeBoolean(this.isAlive);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isAlive = in.readBoolean();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final LifeStatusData lifeStatusData = (LifeStatusData) newData;
+		this.setAliveByte(lifeStatusData.getAliveByte());
+		if (lifeStatusData.isAliveByteNull()) this.setAliveByteNull();
+		this.setCode(lifeStatusData.getCode());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final LifeStatusData other = (LifeStatusData) newData;
+		if ( isAliveByteNull() != other.isAliveByteNull() || getAliveByte() != other.getAliveByte())
+		{
+			return true;
+		}
+
+		if (!isCodeNull() ? !getCode().equals(other.getCode()) : !other.isCodeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		LifeStatusData copy = new LifeStatusData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		LifeStatusData copy = new LifeStatusData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "isAlive: "+(""+isIsAlive())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.child.LifeStatusData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return LifeStatusFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return LifeStatusFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.child.LifeStatusData";
+	}
+}
@@ -0,0 +1,324 @@
+package com.gs.fw.common.mithra.test.domain.criters;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class PetTypeAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private boolean alive;
+	private String genome;
+	private int id;
+	private String name;
+	private int ownerId;
+	public boolean isGenomeNull()
+	{
+		return this.getGenome() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isOwnerIdNull()
+	{
+		return false;
+	}
+
+	public boolean isAliveNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.alive);
+		out.writeObject(this.genome);
+		out.writeInt(this.id);
+		out.writeObject(this.name);
+		out.writeInt(this.ownerId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		PetTypeData data = new PetTypeData();
+		data.setAlive(alive);
+		data.setGenome(genome);
+		data.setId(id);
+		data.setName(name);
+		data.setOwnerId(ownerId);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public PetType getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		PetTypeAbstract copy = (PetTypeAbstract) PetTypeFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (PetType)copy;
+	}
+
+	protected void zSetFromPetTypeData(PetTypeData data)
+	{
+		this.setFromPetTypeData(data);
+	}
+
+	public void setFromPetTypeData(PetTypeData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		alive = data.isAlive();
+		genome = data.getGenome();
+		id = data.getId();
+		name = data.getName();
+		ownerId = data.getOwnerId();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PetTypeFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromPetTypeData((PetTypeData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public boolean isAlive()
+	{
+		if (isAliveNull()) throwNullPrimitiveException("alive");
+		return this.alive;
+	}
+
+	public void setAlive(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.alive = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getGenome()
+	{
+		return this.genome;
+	}
+
+	public void setGenome(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.genome = StringPool.getInstance().getOrAddToCache(value, PetTypeFinder.isFullCache());
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, PetTypeFinder.isFullCache());
+	}
+
+	public int getOwnerId()
+	{
+		return this.ownerId;
+	}
+
+	public void setOwnerId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.ownerId = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setAliveNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final PetTypeData petTypeData = (PetTypeData) newData;
+		if (isNullBits0 != petTypeData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (alive != petTypeData.isAlive())
+		{
+			return true;
+		}
+
+		if (!isGenomeNull() ? !getGenome().equals(petTypeData.getGenome()) : !petTypeData.isGenomeNull())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(petTypeData.getName()) : !petTypeData.isNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		result += "ownerId: "+(""+getOwnerId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeInt(this.id);
+			out.writeInt(this.ownerId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.alive = in.readBoolean();
+			this.genome = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PetTypeFinder.isFullCache());
+			this.id = in.readInt();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PetTypeFinder.isFullCache());
+			this.ownerId = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.ownerId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = PetTypeFinder.id().eq(this.getId());
+			op = op.and(PetTypeFinder.ownerId().eq(this.getOwnerId()));
+			return PetTypeFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
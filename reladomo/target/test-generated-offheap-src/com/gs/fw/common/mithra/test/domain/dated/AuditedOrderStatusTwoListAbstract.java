@@ -0,0 +1,197 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.AuditedOrder;
+import com.gs.fw.common.mithra.test.domain.AuditedOrderAbstract;
+import com.gs.fw.common.mithra.test.domain.AuditedOrderData;
+import com.gs.fw.common.mithra.test.domain.AuditedOrderFinder;
+import com.gs.fw.common.mithra.test.domain.AuditedOrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatusInterface;
+import com.gs.fw.common.mithra.test.domain.OrderStatusInterfaceFinder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedOrderStatusTwoListAbstract extends DelegatingList<AuditedOrderStatusTwo> implements MithraDatedTransactionalList<AuditedOrderStatusTwo>
+{
+	public AuditedOrderStatusTwoListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedOrderStatusTwoListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedOrderStatusTwoListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedOrderStatusTwoListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AuditedOrderStatusTwo[] elements()
+	{
+		AuditedOrderStatusTwo[] result = new AuditedOrderStatusTwo[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedOrderStatusTwoList intersection(AuditedOrderStatusTwoList another)
+	{
+		return (AuditedOrderStatusTwoList)super.intersection(another);
+	}
+
+	public AuditedOrderStatusTwo getAuditedOrderStatusTwoAt(int index)
+	{
+		return (AuditedOrderStatusTwo)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = AuditedOrder.orderId</pre>
+	* @see AuditedOrder#getOrderStatus2() reverse relationship AuditedOrder.getOrderStatus2()
+	* @return The order
+	*/
+	public AuditedOrderList getOrders()
+	{
+		return (AuditedOrderList) this.zGetDelegated().resolveRelationship(this, AuditedOrderStatusTwoFinder.order());
+	}
+
+	public void zSetParentContainerorder(AuditedOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			AuditedOrderStatusTwo item = this.getAuditedOrderStatusTwoAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedOrderStatusTwoFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderStatusTwoList getNonPersistentCopy()
+	{
+		AuditedOrderStatusTwoList result = new AuditedOrderStatusTwoList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedOrderStatusTwoList asAdhoc()
+	{
+		return (AuditedOrderStatusTwoList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<AuditedOrderStatusTwo> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public AuditedOrderStatusTwoList merge(MithraTransactionalList<AuditedOrderStatusTwo> incoming, TopLevelMergeOptions<AuditedOrderStatusTwo> mergeOptions)
+	{
+		return (AuditedOrderStatusTwoList) super.merge(incoming, mergeOptions);
+	}
+
+	public AuditedOrderStatusTwoList getDetachedCopy()
+	{
+		AuditedOrderStatusTwoList result = new AuditedOrderStatusTwoList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(AuditedOrderStatusTwoFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(AuditedOrderStatusTwoFinder.status(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(AuditedOrderStatusTwoFinder.lastUser(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusTwoFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusTwoFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusTwoFinder.processingDateTo(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(AuditedOrderStatusTwoFinder.status());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,139 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDesc;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescAbstract;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescData;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescFinder;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescList;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescType;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescTypeAbstract;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescTypeData;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescTypeFinder;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescTypeList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedTableListAbstract extends DelegatingList<DatedTable> implements MithraList<DatedTable>
+{
+	public DatedTableListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedTableListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedTableListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedTableListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public DatedTable[] elements()
+	{
+		DatedTable[] result = new DatedTable[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedTableList intersection(DatedTableList another)
+	{
+		return (DatedTableList)super.intersection(another);
+	}
+
+	public DatedTable getDatedTableAt(int index)
+	{
+		return (DatedTable)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	NotDatedTable.id = this.id</pre>
+	* @return The not dated table
+	*/
+	public NotDatedTableList getNotDatedTables()
+	{
+		return (NotDatedTableList) this.zGetDelegated().resolveRelationship(this, DatedTableFinder.notDatedTable());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DatedEntityDesc.id
+	and DatedEntityDesc.type = DatedEntityDescType.type</pre>
+	* @return The dated entity desc type
+	*/
+	public DatedEntityDescTypeList getDatedEntityDescTypes()
+	{
+		return (DatedEntityDescTypeList) this.zGetDelegated().resolveRelationship(this, DatedTableFinder.datedEntityDescType());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedTableFinder.getMithraObjectPortal();
+	}
+
+	public DatedTableList getNonPersistentCopy()
+	{
+		DatedTableList result = new DatedTableList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedTableList asAdhoc()
+	{
+		return (DatedTableList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<DatedTable> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,682 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NotDatedTableFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/dated/NotDatedTable";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.dated.NotDatedTable";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.dated.NotDatedTable");
+	private static final NotDatedTableSingleFinder<NotDatedTable, Object, NotDatedTable> finder = new NotDatedTableSingleFinder<NotDatedTable, Object, NotDatedTable>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(NotDatedTableFinder.NotDatedTableRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = NotDatedTableFinder.id().constructEqualityMapper(DatedTableFinder.id());
+			result[1] = DatedTableFinder.id().constructEqualityMapper(NotDatedTableFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static NotDatedTable findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static NotDatedTable findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static NotDatedTableList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (NotDatedTableList) finder.findMany(operation);
+	}
+
+	public static NotDatedTableList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (NotDatedTableList) finder.findManyBypassCache(operation);
+	}
+
+	private static NotDatedTable findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (NotDatedTable) FinderUtils.findOne(found);
+	}
+
+	public static NotDatedTable findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			NotDatedTable _castedTargetData = (NotDatedTable) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static NotDatedTable zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (NotDatedTable) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class NotDatedTableRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<NotDatedTable, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		public NotDatedTableRelatedFinder()
+		{
+			super();
+		}
+
+		public NotDatedTableRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.dated.NotDatedTableFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return NotDatedTableFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return NotDatedTableFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return NotDatedTableFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[1];
+			attributes[0] = this.id();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public NotDatedTable findOne(com.gs.fw.finder.Operation operation)
+		{
+			return NotDatedTableFinder.findOne(operation, false);
+		}
+
+		public NotDatedTable findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return NotDatedTableFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends NotDatedTable> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new NotDatedTableList((Operation) operation);
+		}
+
+		public MithraList<? extends NotDatedTable> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			NotDatedTableList result = (NotDatedTableList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends NotDatedTable> constructEmptyList()
+		{
+			return new NotDatedTableList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1246447044;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(NotDatedTableFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public DatedTableFinder.DatedTableSingleFinderForRelatedClasses<ParentOwnerType, DatedTable, NotDatedTable> datedTable(Timestamp businessDate)
+		{
+			NotDatedTableDatedTableFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(NotDatedTableFinder.zGetNotDatedTableDatedTableReverseMapper(businessDate));
+			newMapper.setToMany(false);
+			result = new NotDatedTableDatedTableFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,businessDate);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return NotDatedTableFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return NotDatedTableFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class NotDatedTableCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends NotDatedTableRelatedFinder<ParentOwnerType, ReturnType, NotDatedTableList, OwnerType>
+	{
+		public NotDatedTableCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class NotDatedTableCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends NotDatedTableCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NotDatedTableCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class NotDatedTableSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends NotDatedTableRelatedFinder<ParentOwnerType, ReturnType, NotDatedTableList, OwnerType>
+	implements ToOneFinder
+	{
+		public NotDatedTableSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public NotDatedTableSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(NotDatedTable other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public NotDatedTable findByPrimaryKey(int id)
+		{
+			NotDatedTable _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (NotDatedTable) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class NotDatedTableSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends NotDatedTableSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NotDatedTableSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static Mapper zGetNotDatedTableDatedTableReverseMapper(Timestamp businessDate)
+	{
+		return zConstructNotDatedTableDatedTableReverseMapper(businessDate);
+	}
+
+	public static Mapper zGetNotDatedTableDatedTableMapper(Timestamp businessDate)
+	{
+		return zConstructNotDatedTableDatedTableMapper(businessDate);
+	}
+
+	private static Mapper datedTablePureReverseMapper = null;
+	public static Mapper zGetNotDatedTableDatedTablePureReverseMapper()
+	{
+		if (datedTablePureReverseMapper == null)
+		{
+			datedTablePureReverseMapper = zConstructNotDatedTableDatedTablePureReverseMapper();
+		}
+
+		return datedTablePureReverseMapper;
+	}
+
+	private static Mapper zConstructNotDatedTableDatedTablePureReverseMapper()
+	{
+		Mapper datedTableMapper = NotDatedTableFinder.zGetConstantJoin(0);
+		datedTableMapper.setName("datedTable");
+		return datedTableMapper;
+	}
+
+	private static Mapper zConstructNotDatedTableDatedTableReverseMapper(Timestamp businessDate)
+	{
+		Mapper datedTableMapperInnerMapper = NotDatedTableFinder.zGetConstantJoin(0);
+		Mapper datedTableMapper = new FilteredMapper(datedTableMapperInnerMapper, null, DatedTableFinder.businessDate().eq(businessDate));
+		datedTableMapper.setName("datedTable");
+		return datedTableMapper;
+	}
+
+	private static Mapper zConstructNotDatedTableDatedTableMapper(Timestamp businessDate)
+	{
+		Mapper datedTableMapperInnerMapper = DatedTableFinder.zGetConstantJoin(0);
+		Mapper datedTableMapper = new FilteredMapper(datedTableMapperInnerMapper, DatedTableFinder.businessDate().eq(businessDate), null);
+		datedTableMapper.setName("datedTable_Reverse");
+		return datedTableMapper;
+	}
+
+	/** maps to NOT_DATED_TABLE.ID **/
+	public static IntegerAttribute<NotDatedTable> id()
+	{
+		return finder.id();
+	}
+
+	public static DatedTableFinder.DatedTableSingleFinderForRelatedClasses<NotDatedTable, DatedTable, NotDatedTable> datedTable(Timestamp businessDate)
+	{
+		return finder.datedTable(businessDate);
+	}
+
+	public static class NotDatedTableDatedTableFinderSubclass<ParentOwnerType> extends DatedTableFinder.DatedTableSingleFinderForRelatedClasses<ParentOwnerType, DatedTable, NotDatedTable>
+	{
+		private Timestamp businessDate;
+		public NotDatedTableDatedTableFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp businessDate)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.businessDate = businessDate;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "datedTable";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new NotDatedTableDatedTableFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.businessDate
+			);
+		}
+
+		protected DatedTable plainValueOf(NotDatedTable _obj)
+		{
+			return _obj.getDatedTable(businessDate);
+		}
+
+		protected DatedTableList plainListValueOf(Object _obj)
+		{
+			return ((NotDatedTableList)_obj).getDatedTables(businessDate);
+		}
+	}
+
+	public static Operation eq(NotDatedTable other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static NotDatedTableSingleFinder<NotDatedTable, Object, NotDatedTable> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.dated.NotDatedTable");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,397 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class NotDatedWithBusinessDateAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(NotDatedWithBusinessDate.class.getName());
+	private static final RelationshipHashStrategy fordatedTable = new DatedTableRhs();
+	private static final class DatedTableRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = DatedTableFinder.businessDate();
+		private AsOfAttribute processingDate = DatedTableFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			NotDatedWithBusinessDateData _castedSrcData = (NotDatedWithBusinessDateData) _srcData;
+			DatedTableData _castedTargetData = (DatedTableData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			NotDatedWithBusinessDateData _castedSrcData = (NotDatedWithBusinessDateData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public NotDatedWithBusinessDateAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NotDatedWithBusinessDate getDetachedCopy() throws MithraBusinessException
+	{
+		return (NotDatedWithBusinessDate) super.getDetachedCopy();
+	}
+
+	public NotDatedWithBusinessDate getNonPersistentCopy() throws MithraBusinessException
+	{
+		NotDatedWithBusinessDate result = (NotDatedWithBusinessDate) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public NotDatedWithBusinessDate copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NotDatedWithBusinessDate) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public NotDatedWithBusinessDate zFindOriginal()
+	{
+		NotDatedWithBusinessDateData data = (NotDatedWithBusinessDateData) this.currentData;
+		Operation op;
+		op = NotDatedWithBusinessDateFinder.id().eq(data.getId());
+		return NotDatedWithBusinessDateFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NotDatedWithBusinessDateData();
+	}
+
+	protected void zSetFromNotDatedWithBusinessDateData( NotDatedWithBusinessDateData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromNotDatedWithBusinessDateData( NotDatedWithBusinessDateData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return ((NotDatedWithBusinessDateData) this.zSynchronizedGetData()).isBusinessDateNull();
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		NotDatedWithBusinessDateData data = (NotDatedWithBusinessDateData) this.zSynchronizedGetData();
+		return data.getBusinessDate();
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(NotDatedWithBusinessDateFinder.businessDate(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((NotDatedWithBusinessDateData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		NotDatedWithBusinessDateData data = (NotDatedWithBusinessDateData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(NotDatedWithBusinessDateFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((NotDatedWithBusinessDateData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public double getQuantity()
+	{
+		NotDatedWithBusinessDateData data = (NotDatedWithBusinessDateData) this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NotDatedWithBusinessDateFinder.quantity(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, NotDatedWithBusinessDateFinder.quantity(), false);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(NotDatedWithBusinessDateFinder.quantity(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NotDatedWithBusinessDateData _newData = (NotDatedWithBusinessDateData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		NotDatedWithBusinessDateData _newData = (NotDatedWithBusinessDateData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NotDatedWithBusinessDateData _newData = (NotDatedWithBusinessDateData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DatedTable.id and this.businessDate = DatedTable.businessDate</pre>
+	* @return The dated table
+	*/
+	public DatedTable getDatedTable()
+	{
+		DatedTable _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		NotDatedWithBusinessDateData _data = (NotDatedWithBusinessDateData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isBusinessDateNull())
+			{
+				_portal = DatedTableFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fordatedTable,_data.getBusinessDate(),com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+				if (!(_related instanceof NulledRelation)) _result = (DatedTable) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(NotDatedWithBusinessDateFinder.datedTable().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isBusinessDateNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(NotDatedWithBusinessDateFinder.datedTable().zGetRelationshipMultiExtractor(), this);
+					_result = DatedTableFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DatedTable) _data.getDatedTable();
+			if (_result == null)
+			{
+				if (!_data.isBusinessDateNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(NotDatedWithBusinessDateFinder.datedTable().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = DatedTableFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setDatedTable(DatedTable datedTable)
+	{
+		DatedTable _datedTable = (DatedTable) datedTable;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NotDatedWithBusinessDateData _data = (NotDatedWithBusinessDateData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatedTable(_datedTable);
+			if (_datedTable == null)
+			{
+				this.setId(0);
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setId(_datedTable.getId());
+				this.setBusinessDate(_datedTable.getBusinessDate());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_datedTable == null)
+			{
+				this.setId(0);
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setId(
+					_datedTable.getId());
+				this.setBusinessDate(
+					_datedTable.getBusinessDate());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public NotDatedWithBusinessDate zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NotDatedWithBusinessDate original = (NotDatedWithBusinessDate) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return NotDatedWithBusinessDateFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NotDatedWithBusinessDateFinder.getMithraObjectPortal();
+	}
+
+	public NotDatedWithBusinessDate getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, NotDatedWithBusinessDateFinder.businessDate(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NotDatedWithBusinessDateFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, NotDatedWithBusinessDateFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		NotDatedWithBusinessDateAbstract result = (NotDatedWithBusinessDateAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,772 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NotDatedWithBusinessDateFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/dated/NotDatedWithBusinessDate";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.dated.NotDatedWithBusinessDate";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.dated.NotDatedWithBusinessDate");
+	private static final NotDatedWithBusinessDateSingleFinder<NotDatedWithBusinessDate, Object, NotDatedWithBusinessDate> finder = new NotDatedWithBusinessDateSingleFinder<NotDatedWithBusinessDate, Object, NotDatedWithBusinessDate>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(NotDatedWithBusinessDateFinder.NotDatedWithBusinessDateRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addRelationshipName("datedTable");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = NotDatedWithBusinessDateFinder.id().constructEqualityMapper(DatedTableFinder.id());
+			result[1] = DatedTableFinder.id().constructEqualityMapper(NotDatedWithBusinessDateFinder.id());
+			result[2] = NotDatedWithBusinessDateFinder.businessDate().constructEqualityMapper(DatedTableFinder.businessDate());
+			result[3] = DatedTableFinder.businessDate().constructEqualityMapper(NotDatedWithBusinessDateFinder.businessDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static NotDatedWithBusinessDate findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static NotDatedWithBusinessDate findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static NotDatedWithBusinessDateList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (NotDatedWithBusinessDateList) finder.findMany(operation);
+	}
+
+	public static NotDatedWithBusinessDateList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (NotDatedWithBusinessDateList) finder.findManyBypassCache(operation);
+	}
+
+	private static NotDatedWithBusinessDate findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (NotDatedWithBusinessDate) FinderUtils.findOne(found);
+	}
+
+	public static NotDatedWithBusinessDate findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			NotDatedWithBusinessDateData _castedTargetData = (NotDatedWithBusinessDateData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static NotDatedWithBusinessDate zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (NotDatedWithBusinessDate) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class NotDatedWithBusinessDateRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<NotDatedWithBusinessDate, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private TimestampAttribute<ParentOwnerType> businessDate;
+		private NotDatedWithBusinessDateDatedTableFinderSubclass<ParentOwnerType> datedTable;
+		public NotDatedWithBusinessDateRelatedFinder()
+		{
+			super();
+		}
+
+		public NotDatedWithBusinessDateRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.dated.NotDatedWithBusinessDateFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return NotDatedWithBusinessDateFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return NotDatedWithBusinessDateFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return NotDatedWithBusinessDateFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.id();
+			attributes[1] = this.quantity();
+			attributes[2] = this.businessDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.datedTable());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public NotDatedWithBusinessDate findOne(com.gs.fw.finder.Operation operation)
+		{
+			return NotDatedWithBusinessDateFinder.findOne(operation, false);
+		}
+
+		public NotDatedWithBusinessDate findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return NotDatedWithBusinessDateFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends NotDatedWithBusinessDate> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new NotDatedWithBusinessDateList((Operation) operation);
+		}
+
+		public MithraList<? extends NotDatedWithBusinessDate> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			NotDatedWithBusinessDateList result = (NotDatedWithBusinessDateList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends NotDatedWithBusinessDate> constructEmptyList()
+		{
+			return new NotDatedWithBusinessDateList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1979912190;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(NotDatedWithBusinessDateFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(NotDatedWithBusinessDateFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("BUSINESS_DATE","","businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(NotDatedWithBusinessDateFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public DatedTableFinder.DatedTableSingleFinderForRelatedClasses<ParentOwnerType, DatedTable, NotDatedWithBusinessDate> datedTable()
+		{
+			NotDatedWithBusinessDateDatedTableFinderSubclass<ParentOwnerType> result = this.datedTable;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(NotDatedWithBusinessDateFinder.zGetNotDatedWithBusinessDateDatedTableReverseMapper());
+				newMapper.setToMany(false);
+				result = new NotDatedWithBusinessDateDatedTableFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datedTable = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return NotDatedWithBusinessDateFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return NotDatedWithBusinessDateFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class NotDatedWithBusinessDateCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends NotDatedWithBusinessDateRelatedFinder<ParentOwnerType, ReturnType, NotDatedWithBusinessDateList, OwnerType>
+	{
+		public NotDatedWithBusinessDateCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class NotDatedWithBusinessDateCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends NotDatedWithBusinessDateCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NotDatedWithBusinessDateCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class NotDatedWithBusinessDateSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends NotDatedWithBusinessDateRelatedFinder<ParentOwnerType, ReturnType, NotDatedWithBusinessDateList, OwnerType>
+	implements ToOneFinder
+	{
+		public NotDatedWithBusinessDateSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public NotDatedWithBusinessDateSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(NotDatedWithBusinessDate other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public NotDatedWithBusinessDate findByPrimaryKey(int id)
+		{
+			NotDatedWithBusinessDate _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (NotDatedWithBusinessDate) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class NotDatedWithBusinessDateSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends NotDatedWithBusinessDateSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NotDatedWithBusinessDateSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper datedTableReverseMapper = null;
+	public static Mapper zGetNotDatedWithBusinessDateDatedTableReverseMapper()
+	{
+		if (datedTableReverseMapper == null)
+		{
+			datedTableReverseMapper = zConstructNotDatedWithBusinessDateDatedTableReverseMapper();
+		}
+
+		return datedTableReverseMapper;
+	}
+
+	private static Mapper datedTableMapper = null;
+	public static Mapper zGetNotDatedWithBusinessDateDatedTableMapper()
+	{
+		if (datedTableMapper == null)
+		{
+			datedTableMapper = zConstructNotDatedWithBusinessDateDatedTableMapper();
+		}
+
+		return datedTableMapper;
+	}
+
+	private static Mapper datedTablePureReverseMapper = null;
+	public static Mapper zGetNotDatedWithBusinessDateDatedTablePureReverseMapper()
+	{
+		if (datedTablePureReverseMapper == null)
+		{
+			datedTablePureReverseMapper = zConstructNotDatedWithBusinessDateDatedTablePureReverseMapper();
+		}
+
+		return datedTablePureReverseMapper;
+	}
+
+	private static Mapper zConstructNotDatedWithBusinessDateDatedTablePureReverseMapper()
+	{
+		InternalList datedTableMapperMapperList = new InternalList(2);
+		datedTableMapperMapperList.add(NotDatedWithBusinessDateFinder.zGetConstantJoin(0));
+		datedTableMapperMapperList.add(NotDatedWithBusinessDateFinder.zGetConstantJoin(2));
+		Mapper datedTableMapper = new MultiEqualityMapper(datedTableMapperMapperList);
+		datedTableMapper.setName("datedTable");
+		return datedTableMapper;
+	}
+
+	private static Mapper zConstructNotDatedWithBusinessDateDatedTableReverseMapper()
+	{
+		InternalList datedTableMapperMapperList = new InternalList(2);
+		datedTableMapperMapperList.add(NotDatedWithBusinessDateFinder.zGetConstantJoin(0));
+		datedTableMapperMapperList.add(NotDatedWithBusinessDateFinder.zGetConstantJoin(2));
+		Mapper datedTableMapper = new MultiEqualityMapper(datedTableMapperMapperList);
+		datedTableMapper.setName("datedTable");
+		return datedTableMapper;
+	}
+
+	private static Mapper zConstructNotDatedWithBusinessDateDatedTableMapper()
+	{
+		InternalList datedTableMapperMapperList = new InternalList(2);
+		datedTableMapperMapperList.add(NotDatedWithBusinessDateFinder.zGetConstantJoin(1));
+		datedTableMapperMapperList.add(NotDatedWithBusinessDateFinder.zGetConstantJoin(3));
+		Mapper datedTableMapper = new MultiEqualityMapper(datedTableMapperMapperList);
+		datedTableMapper.setName("datedTable_Reverse");
+		return datedTableMapper;
+	}
+
+	/** maps to NOT_DATED_WITH_BUSINESS_DATE.ID **/
+	public static IntegerAttribute<NotDatedWithBusinessDate> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to NOT_DATED_WITH_BUSINESS_DATE.QUANTITY **/
+	public static DoubleAttribute<NotDatedWithBusinessDate> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to NOT_DATED_WITH_BUSINESS_DATE.BUSINESS_DATE **/
+	public static TimestampAttribute<NotDatedWithBusinessDate> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static DatedTableFinder.DatedTableSingleFinderForRelatedClasses<NotDatedWithBusinessDate, DatedTable, NotDatedWithBusinessDate> datedTable()
+	{
+		return finder.datedTable();
+	}
+
+	public static class NotDatedWithBusinessDateDatedTableFinderSubclass<ParentOwnerType> extends DatedTableFinder.DatedTableSingleFinderForRelatedClasses<ParentOwnerType, DatedTable, NotDatedWithBusinessDate>
+	{
+		public NotDatedWithBusinessDateDatedTableFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "datedTable";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				DatedTableFinder.id(),
+				DatedTableFinder.businessDate(),
+				DatedTableFinder.processingDate()).withExtractors(
+				NotDatedWithBusinessDateFinder.id(),
+				NotDatedWithBusinessDateFinder.businessDate(),
+				((OperationWithParameterExtractor)DatedTableFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new NotDatedWithBusinessDateDatedTableFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DatedTable plainValueOf(NotDatedWithBusinessDate _obj)
+		{
+			return _obj.getDatedTable();
+		}
+
+		protected DatedTableList plainListValueOf(Object _obj)
+		{
+			return ((NotDatedWithBusinessDateList)_obj).getDatedTables();
+		}
+	}
+
+	public static Operation eq(NotDatedWithBusinessDate other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static NotDatedWithBusinessDateSingleFinder<NotDatedWithBusinessDate, Object, NotDatedWithBusinessDate> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			businessDate()
+			, id()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = quantity();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.dated.NotDatedWithBusinessDate");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,249 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class NotDatedWithTimestampTableAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(NotDatedWithTimestampTable.class.getName());
+	public NotDatedWithTimestampTableAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NotDatedWithTimestampTable getDetachedCopy() throws MithraBusinessException
+	{
+		return (NotDatedWithTimestampTable) super.getDetachedCopy();
+	}
+
+	public NotDatedWithTimestampTable getNonPersistentCopy() throws MithraBusinessException
+	{
+		NotDatedWithTimestampTable result = (NotDatedWithTimestampTable) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public NotDatedWithTimestampTable copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NotDatedWithTimestampTable) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public NotDatedWithTimestampTable zFindOriginal()
+	{
+		NotDatedWithTimestampTableData data = (NotDatedWithTimestampTableData) this.currentData;
+		Operation op;
+		op = NotDatedWithTimestampTableFinder.id().eq(data.getId());
+		op = op.and(NotDatedWithTimestampTableFinder.signoffDate().eq(data.getSignoffDate()));
+		return NotDatedWithTimestampTableFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NotDatedWithTimestampTableData();
+	}
+
+	protected void zSetFromNotDatedWithTimestampTableData( NotDatedWithTimestampTableData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromNotDatedWithTimestampTableData( NotDatedWithTimestampTableData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isIdNull()
+	{
+		return ((NotDatedWithTimestampTableData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public String getId()
+	{
+		NotDatedWithTimestampTableData data = (NotDatedWithTimestampTableData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(NotDatedWithTimestampTableFinder.id(), newValue, true, false );
+	}
+
+	public boolean isSignoffDateNull()
+	{
+		return ((NotDatedWithTimestampTableData) this.zSynchronizedGetData()).isSignoffDateNull();
+	}
+
+	public Timestamp getSignoffDate()
+	{
+		NotDatedWithTimestampTableData data = (NotDatedWithTimestampTableData) this.zSynchronizedGetData();
+		return data.getSignoffDate();
+	}
+
+	public void setSignoffDate(Timestamp newValue)
+	{
+		zSetTimestamp(NotDatedWithTimestampTableFinder.signoffDate(), newValue, true, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NotDatedWithTimestampTableData _newData = (NotDatedWithTimestampTableData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		NotDatedWithTimestampTableData _newData = (NotDatedWithTimestampTableData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NotDatedWithTimestampTableData _newData = (NotDatedWithTimestampTableData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public NotDatedWithTimestampTable zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NotDatedWithTimestampTable original = (NotDatedWithTimestampTable) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return NotDatedWithTimestampTableFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NotDatedWithTimestampTableFinder.getMithraObjectPortal();
+	}
+
+	public NotDatedWithTimestampTable getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, NotDatedWithTimestampTableFinder.id(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, NotDatedWithTimestampTableFinder.signoffDate(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		NotDatedWithTimestampTableAbstract result = (NotDatedWithTimestampTableAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,274 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NotDatedWithTimestampTableData
+implements MithraDataObject
+{
+	private String id;
+	private Timestamp signoffDate;
+	public boolean isIdNull()
+	{
+		return this.getId() == null;
+	}
+
+	public boolean isSignoffDateNull()
+	{
+		return this.getSignoffDate() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.id);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.signoffDate);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getId()
+	{
+		return this.id;
+	}
+
+	public int zGetIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(id);
+	}
+
+	public void setId(String value)
+	{
+		this.id = StringPool.getInstance().getOrAddToCache(value, NotDatedWithTimestampTableFinder.isFullCache());
+	}
+
+	public void setIdNull()
+	{
+		this.setId(null);
+	}
+
+	public Timestamp getSignoffDate()
+	{
+		return this.signoffDate;
+	}
+
+	public long zGetSignoffDateAsLong()
+	{
+		if (signoffDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return signoffDate.getTime();
+	}
+
+	public void setSignoffDate(Timestamp value)
+	{
+		this.signoffDate = TimestampPool.getInstance().getOrAddToCache(value, NotDatedWithTimestampTableFinder.isFullCache(), NotDatedWithTimestampTableFinder.isOffHeap());
+	}
+
+	public void setSignoffDateNull()
+	{
+		this.setSignoffDate(null);
+	}
+
+	protected void copyInto(NotDatedWithTimestampTableData copy, boolean withRelationships)
+	{
+		copy.id = this.id;
+		copy.signoffDate = this.signoffDate;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = StringPool.getInstance().getOrAddToCache((String)in.readObject(), NotDatedWithTimestampTableFinder.isFullCache());
+		this.signoffDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), NotDatedWithTimestampTableFinder.isFullCache(), NotDatedWithTimestampTableFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final NotDatedWithTimestampTableData otherData = (NotDatedWithTimestampTableData) other;
+		if (!isIdNull() ? !getId().equals(otherData.getId()) : !otherData.isIdNull())
+		{
+			return false;
+		}
+
+		if (!isSignoffDateNull() ? !getSignoffDate().equals(otherData.getSignoffDate()) : !otherData.isSignoffDateNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.id);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.signoffDate);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = StringPool.getInstance().getOrAddToCache((String)in.readObject(), NotDatedWithTimestampTableFinder.isFullCache());
+		this.signoffDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), NotDatedWithTimestampTableFinder.isFullCache(), NotDatedWithTimestampTableFinder.isOffHeap());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final NotDatedWithTimestampTableData notDatedWithTimestampTableData = (NotDatedWithTimestampTableData) newData;
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final NotDatedWithTimestampTableData other = (NotDatedWithTimestampTableData) newData;
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		NotDatedWithTimestampTableData copy = new NotDatedWithTimestampTableData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		NotDatedWithTimestampTableData copy = new NotDatedWithTimestampTableData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+"'"+getId()+"'"+ " / ";
+		result += "signoffDate: "+(isSignoffDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getSignoffDate().getTime()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.dated.NotDatedWithTimestampTableData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return NotDatedWithTimestampTableFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return NotDatedWithTimestampTableFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.dated.NotDatedWithTimestampTableData";
+	}
+}
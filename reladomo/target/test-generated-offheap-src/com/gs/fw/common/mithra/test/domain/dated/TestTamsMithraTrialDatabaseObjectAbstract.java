@@ -0,0 +1,598 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestTamsMithraTrialDatabaseObjectAbstract extends MithraAbstractDatedDatabaseObject implements MithraDatabaseObject, MithraDatedObjectFactory
+,MithraReplicatedDatabaseObject
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "TRIAL_AUTO_C,IN_Z,OUT_Z,FROM_Z,THRU_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.TRIAL_AUTO_C,t0.IN_Z,t0.OUT_Z,t0.FROM_Z,t0.THRU_Z";
+	private static final String PK_WITH_ALIAS = "t0.NODE_I = ?";
+	private static final String PK_INDEX_COLS = "NODE_I";
+	protected TestTamsMithraTrialDatabaseObjectAbstract()
+	{
+		super("TestTamsMithraTrial", "com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialFinder",
+			6, 6,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestTamsMithraTrialFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestTamsMithraTrialFinder.getFinderInstance();
+	}
+
+	public static TestTamsMithraTrialData allocateOnHeapData()
+	{
+		return new TestTamsMithraTrialData.TestTamsMithraTrialDataOnHeap();
+	}
+
+	public static TestTamsMithraTrialData allocateOffHeapData()
+	{
+		return new TestTamsMithraTrialData.TestTamsMithraTrialDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestTamsMithraTrialData.TestTamsMithraTrialDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestTamsMithraTrialFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestTamsMithraTrialFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestTamsMithraTrialData data = new TestTamsMithraTrialData.TestTamsMithraTrialDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestTamsMithraTrialFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestTamsMithraTrialFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestTamsMithraTrialData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrial", TestTamsMithraTrialFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("TestTamsMithraTrial"));
+			TestTamsMithraTrialData.TestTamsMithraTrialDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapFullDatedCache(TestTamsMithraTrialFinder.getPrimaryKeyAttributes(), TestTamsMithraTrialFinder.getAsOfAttributes(), this, TestTamsMithraTrialFinder.getImmutableAttributes(), dataStorage);
+		}
+		else
+		{
+			result = new FullDatedCache(TestTamsMithraTrialFinder.getPrimaryKeyAttributes(), TestTamsMithraTrialFinder.getAsOfAttributes(), this, TestTamsMithraTrialFinder.getImmutableAttributes());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestTamsMithraTrialData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrial", TestTamsMithraTrialFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			TestTamsMithraTrialData.TestTamsMithraTrialDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(TestTamsMithraTrialFinder.getPrimaryKeyAttributes(), TestTamsMithraTrialFinder.getAsOfAttributes(), this, TestTamsMithraTrialFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(TestTamsMithraTrialFinder.getPrimaryKeyAttributes(), TestTamsMithraTrialFinder.getAsOfAttributes(), this, TestTamsMithraTrialFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestTamsMithraTrialFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestTamsMithraTrialFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestTamsMithraTrialData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestTamsMithraTrialData(1, (TestTamsMithraTrialData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestTamsMithraTrialPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestTamsMithraTrialTableName();
+	}
+
+	public String getTestTamsMithraTrialTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestTamsMithraTrialData data = (TestTamsMithraTrialData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTrialNodeId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == TestTamsMithraTrialFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TestTamsMithraTrialFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "NODE_I = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.NODE_I,t0.TRIAL_AUTO_C,t0.IN_Z,t0.OUT_Z,t0.FROM_Z,t0.THRU_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*6);
+		result.append(databaseAlias).append(".").append("NODE_I");
+		result.append(",").append(databaseAlias).append(".").append("TRIAL_AUTO_C");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestTamsMithraTrialData inflateTestTamsMithraTrialData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestTamsMithraTrialData data = inflateTestTamsMithraTrialPkData(rs, dt);
+		inflateNonPkTestTamsMithraTrialData(2, data, rs, dt);
+		return data;
+	}
+
+	public TestTamsMithraTrialData inflateTestTamsMithraTrialPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestTamsMithraTrialData _data = new TestTamsMithraTrialData.TestTamsMithraTrialDataOnHeap();
+		int _pos = 1;
+		_data.setTrialNodeId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "trialNodeId");
+		return _data;
+	}
+
+	public void inflateNonPkTestTamsMithraTrialData(int _pos, TestTamsMithraTrialData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestTamsMithraTrialData _data = _datax;
+			_data.setTrialId(trimString(_rs.getString(_pos++)));
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TestTamsMithraTrialFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TestTamsMithraTrialFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTestTamsMithraTrialTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TEST_TAMS_TRIAL";
+	}
+
+	public boolean isReplicated()
+	{
+		return true;
+	}
+
+	private String getFullyQualifiedChildQueueTableName()
+	{
+		return this.getFullyQualifiedChildQueueTableNameGenericSource(null);
+	}
+
+	public String getReplicationTableColumnList(String databaseAlias)
+	{
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*6);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("NODE_I");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("\"THRU_Z\"");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("\"OUT_Z\"");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("action");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("event_seq_no");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("last_update_time");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("last_update_userid");
+		return result.toString();
+	}
+
+	public void inflateReplicatedAsOfAttributeTestTamsMithraTrialData(int _pos, TestTamsMithraTrialData _data, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		if (processingDateTotimestampValue == null)
+		{
+			throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+		}
+
+		processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+			TestTamsMithraTrialFinder.processingDate().getInfinityDate());
+		_data.setProcessingDateTo(processingDateTotimestampValue);
+		Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		if (businessDateTotimestampValue == null)
+		{
+			throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+		}
+
+		businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+			TestTamsMithraTrialFinder.businessDate().getInfinityDate());
+		_data.setBusinessDateTo(businessDateTotimestampValue);
+	}
+
+	public Map findReplicatedData(int minEventId, int maxEventId)
+	{
+		Map replicationRowsByActionMap = new HashMap(3);
+		long startTime = System.currentTimeMillis();
+		DatabaseType dt = this.getDatabaseType();
+		StringBuffer fromClause = new StringBuffer();
+		fromClause.append(this.getFullyQualifiedChildQueueTableName());
+		fromClause.append(" "+SqlQuery.DEFAULT_DATABASE_ALIAS);
+		String whereClause = "event_seq_no >= ? and event_seq_no <= ?";
+		String statement = dt.getSelect(this.getReplicationTableColumnList(SqlQuery.DEFAULT_DATABASE_ALIAS), fromClause.toString(), whereClause, true);
+		Connection con = null;
+		ResultSet rs = null;
+		PreparedStatement stm = null;
+		long count = 0;
+		try
+		{
+			con = this.getConnectionForReadGenericSource(null);
+			if(sqlLogger.isDebugEnabled())
+			{
+				PrintablePreparedStatement pps = new PrintablePreparedStatement(statement);
+				pps.setInt(1, minEventId);
+				pps.setInt(2, maxEventId);
+				sqlLogger.debug("find with: " + pps.getPrintableStatement());
+			}
+
+			stm = con.prepareStatement(statement);
+			stm.setInt(1, minEventId);
+			stm.setInt(2, maxEventId);
+			rs = stm.executeQuery();
+			while (rs.next())
+			{
+				TestTamsMithraTrialData data = this.inflateTestTamsMithraTrialPkData(rs, dt);
+				inflateReplicatedAsOfAttributeTestTamsMithraTrialData(2, data, rs, dt);
+				String action = rs.getString(4);
+				List replicationRowsByActionList = (List) replicationRowsByActionMap.get(action);
+				if(replicationRowsByActionList == null)
+				{
+					replicationRowsByActionList = new ArrayList();
+					replicationRowsByActionMap.put(action, replicationRowsByActionList);
+				}
+
+				replicationRowsByActionList.add(data);
+				count++;
+			}
+
+			rs.close();
+			rs = null;
+			stm.close();
+			stm = null;
+		}
+
+		catch(SQLException e)
+		{
+			analyzeAndWrapSqlException("find failed "+e.getMessage(), e, con);
+		}
+
+		finally
+		{
+			closeDatabaseObjects(con, stm, rs);
+		}
+
+		if(sqlLogger.isDebugEnabled())
+		{
+			long totalTime = System.currentTimeMillis() - startTime;
+			sqlLogger.debug("retrieved " + count+" objects, "+
+			(count > 0 ? totalTime/count +" ms per" : totalTime + " ms"));
+		}
+
+		return replicationRowsByActionMap;
+	}
+
+	public void createChildQueueTestTable()
+	{
+		DatabaseType dt = this.getDatabaseType();
+		StringBuffer statement = new StringBuffer("create table ");
+		statement.append(this.getFullyQualifiedChildQueueTableName());
+		statement.append("( event_seq_no numeric(10,0) not null, ");
+		statement.append(" last_update_time "+dt.getSqlDataTypeForTimestamp());
+		statement.append(" , ");
+		statement.append(" NODE_I integer not null,");
+		statement.append(" \"THRU_Z\" datetime not null,");
+		statement.append(" \"OUT_Z\" datetime not null,");
+		statement.append(" action char(1) not null, ");
+		statement.append(" last_update_userid char(30) not null )");
+		executeSqlStatementGenericSource(statement.toString(), null );
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TestTamsMithraTrial newObject = new TestTamsMithraTrial(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromTestTamsMithraTrialData((TestTamsMithraTrialData) data);
+		return newObject;
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_Z = ?";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestTamsMithraTrialData data = (TestTamsMithraTrialData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTrialNodeId());
+		return pos;
+	}
+}
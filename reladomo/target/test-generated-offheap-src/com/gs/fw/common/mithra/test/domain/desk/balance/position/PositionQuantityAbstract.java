@@ -0,0 +1,1070 @@
+package com.gs.fw.common.mithra.test.domain.desk.balance.position;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.AccountFinder;
+import com.gs.fw.common.mithra.test.domain.PositionDriver;
+import com.gs.fw.common.mithra.test.domain.PositionDriverAbstract;
+import com.gs.fw.common.mithra.test.domain.PositionDriverData;
+import com.gs.fw.common.mithra.test.domain.PositionDriverFinder;
+import com.gs.fw.common.mithra.test.domain.PositionDriverList;
+import com.gs.fw.common.mithra.test.domain.Product;
+import com.gs.fw.common.mithra.test.domain.ProductAbstract;
+import com.gs.fw.common.mithra.test.domain.ProductData;
+import com.gs.fw.common.mithra.test.domain.ProductFinder;
+import com.gs.fw.common.mithra.test.domain.ProductList;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.*;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistory;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryAbstract;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryData;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryFinder;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class PositionQuantityAbstract extends com.gs.fw.common.mithra.test.domain.desk.balance.position.NormalizedBalanceDatedCommonAbstract implements MithraDatedTransactionalObject, Serializable
+{
+	private static TemporalDirector temporalDirector = new com.gs.fw.common.mithra.test.ParaLikeBiTemporalDirector(
+		PositionQuantityFinder.businessDate()
+	,
+		PositionQuantityFinder.processingDate()
+	, PositionQuantityFinder.zGetDoubleAttributes(),PositionQuantityFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(PositionQuantity.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forpositionDriver = new PositionDriverRhs();
+	private static final RelationshipHashStrategy forproduct = new ProductRhs();
+	private static final RelationshipHashStrategy foradjustmentHistory1800 = new AdjustmentHistory1800Rhs();
+	private static final class PositionDriverRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PositionQuantityData _castedSrcData = (PositionQuantityData) _srcData;
+			PositionDriverData _castedTargetData = (PositionDriverData) _targetData;
+			if (_castedSrcData.getAccountId()!= null && _castedSrcData.getAccountId().equals(_castedTargetData.getAccountId()) && _castedSrcData.getProductId() == _castedTargetData.getProductId() && _castedSrcData.getAcmapCode()!= null && _castedSrcData.getAcmapCode().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PositionQuantityData _castedSrcData = (PositionQuantityData) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getAccountId()),HashUtil.hash(_castedSrcData.getProductId())),HashUtil.hash(_castedSrcData.getAcmapCode()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PositionQuantityData _castedSrcData = (PositionQuantityData) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_castedSrcData.zGetAccountIdAsInt()),HashUtil.hash(_castedSrcData.getProductId())),HashUtil.offHeapHash(_castedSrcData.zGetAcmapCodeAsInt()));
+		}
+	}
+
+	private static final class ProductRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PositionQuantityData _castedSrcData = (PositionQuantityData) _srcData;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (_castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PositionQuantityData _castedSrcData = (PositionQuantityData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class AdjustmentHistory1800Rhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PositionQuantity _castedSrcObject = (PositionQuantity) _srcObject;
+			PositionQuantityData _castedSrcData = (PositionQuantityData) _srcData;
+			PositionAdjustmentHistory _castedTargetData = (PositionAdjustmentHistory) _targetData;
+			if (!_castedTargetData.isAccountIdNull() && _castedSrcData.getAccountId()!= null && _castedSrcData.getAccountId().equals(_castedTargetData.getAccountId()) && !_castedTargetData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId() && !_castedTargetData.isBusinessDateNull() && _castedSrcObject.getBusinessDate()!= null && _castedSrcObject.getBusinessDate().equals(_castedTargetData.getBusinessDate()) && _castedSrcData.getAcmapCode()!= null && _castedSrcData.getAcmapCode().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PositionQuantity _castedSrcObject = (PositionQuantity) _srcObject;
+			PositionQuantityData _castedSrcData = (PositionQuantityData) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getAccountId()),HashUtil.hash(_castedSrcData.getProductId())),HashUtil.hash(_castedSrcObject.getBusinessDate())),HashUtil.hash(_castedSrcData.getAcmapCode()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PositionQuantity _castedSrcObject = (PositionQuantity) _srcObject;
+			PositionQuantityData _castedSrcData = (PositionQuantityData) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_castedSrcData.zGetAccountIdAsInt()),HashUtil.hash(_castedSrcData.getProductId())),HashUtil.hash(_castedSrcObject.getBusinessDate())),HashUtil.offHeapHash(_castedSrcData.zGetAcmapCodeAsInt()));
+		}
+	}
+
+	public PositionQuantityAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, PositionQuantityFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, PositionQuantityFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public PositionQuantityAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public PositionQuantityData zSynchronizedGetData()
+	{
+		return (PositionQuantityData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !PositionQuantityFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !PositionQuantityFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public PositionQuantity zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PositionQuantity original = (PositionQuantity) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public PositionQuantity copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (PositionQuantity) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public PositionQuantity copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (PositionQuantity) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			PositionQuantityFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public PositionQuantity getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		PositionQuantityAbstract result = (PositionQuantityAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (PositionQuantity ) result;
+	}
+
+	public PositionQuantity zFindOriginal()
+	{
+		PositionQuantityData data = (PositionQuantityData) this.currentData;
+		Operation op;
+		op = PositionQuantityFinder.accountId().eq(data.getAccountId());
+		op = op.and(PositionQuantityFinder.productId().eq(data.getProductId()));
+		op = op.and(PositionQuantityFinder.positionType().eq(data.getPositionType()));
+		op = op.and(PositionQuantityFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(PositionQuantityFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(PositionQuantityFinder.processingDate().eq(this.getProcessingDate()));
+		return PositionQuantityFinder.findOne(op);
+	}
+
+	public PositionQuantity getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		PositionQuantityAbstract result = (PositionQuantityAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (PositionQuantity ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public PositionQuantity copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (PositionQuantity) behavior.updateOriginalOrInsert(this);
+	}
+
+	public PositionQuantity copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (PositionQuantity) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			PositionQuantityData data = (PositionQuantityData) this.currentData;
+			Operation op = PositionQuantityFinder.businessDate().eq(this.businessDate);
+			op = op.and(PositionQuantityFinder.processingDate().eq(this.processingDate));
+			op = op.and(PositionQuantityFinder.accountId().eq(data.getAccountId()));
+			op = op.and(PositionQuantityFinder.positionType().eq(data.getPositionType()));
+			op = op.and(PositionQuantityFinder.productId().eq(data.getProductId()));
+			op = op.and(PositionQuantityFinder.acmapCode().eq(data.getAcmapCode()));
+			return PositionQuantityFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		PositionQuantityData data = (PositionQuantityData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && PositionQuantityFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		PositionQuantityData data = (PositionQuantityData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return this.zSynchronizedGetData().isAccountIdNull();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isPositionTypeNull()
+	{
+		return this.zSynchronizedGetData().isPositionTypeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public String getAccountId()
+	{
+		return this.zSynchronizedGetData().getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'accountId' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(PositionQuantityFinder.accountId(), newValue, true );
+	}
+
+	public void setAccountIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'accountId' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(PositionQuantityFinder.accountId(), newValue, true , exclusiveUntil);
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(PositionQuantityFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(PositionQuantityFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PositionQuantityFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PositionQuantityFinder.businessDateTo(), newValue, false );
+	}
+
+	public int getPositionType()
+	{
+		return this.zSynchronizedGetData().getPositionType();
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(PositionQuantityFinder.positionType(), newValue, true ,false);
+	}
+
+	public void setPositionTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(PositionQuantityFinder.positionType(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PositionQuantityFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PositionQuantityFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		return this.zSynchronizedGetData().getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(PositionQuantityFinder.productId(), newValue, true ,false);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(PositionQuantityFinder.productId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public double getQuantity()
+	{
+		PositionQuantityData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(PositionQuantityFinder.quantity(), newValue, false ,true);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(PositionQuantityFinder.quantity(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, PositionQuantityFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, PositionQuantityFinder.quantity(), false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, PositionQuantityFinder.quantity(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		PositionQuantityData data2 = (PositionQuantityData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && PositionQuantityFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(PositionQuantityFinder.quantity(), false);
+	}
+
+	public void setQuantityNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PositionQuantityFinder.quantity(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PositionQuantityData _newData = (PositionQuantityData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		PositionQuantityData _newData = (PositionQuantityData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		PositionQuantityData _newData = (PositionQuantityData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.accountId = PositionDriver.accountId and this.productId = PositionDriver.productId</pre>
+	* @return The position driver
+	*/
+	public PositionDriver getPositionDriver()
+	{
+		PositionDriver _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		PositionQuantityData _data = (PositionQuantityData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = PositionDriverFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forpositionDriver, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (PositionDriver) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(PositionQuantityFinder.positionDriver().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(PositionQuantityFinder.positionDriver().zGetRelationshipMultiExtractor(), this);
+					_result = PositionDriverFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (PositionDriver) _data.getPositionDriver();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(PositionQuantityFinder.positionDriver().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = PositionDriverFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setPositionDriver(PositionDriver positionDriver)
+	{
+		PositionDriver _positionDriver = (PositionDriver) positionDriver;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PositionQuantityData _data = (PositionQuantityData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setPositionDriver(_positionDriver);
+			if (_positionDriver == null)
+			{
+				this.setAccountId(null);
+				this.setProductId(0);
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setAccountId(
+					_positionDriver.getAccountId());
+				this.setProductId(
+					_positionDriver.getProductId());
+				this.setAcmapCode(
+					_positionDriver.getAcmapCode());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_positionDriver == null)
+			{
+				this.setAccountId(null);
+				this.setProductId(0);
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setAccountId(
+					_positionDriver.getAccountId());
+				this.setProductId(
+					_positionDriver.getProductId());
+				this.setAcmapCode(
+					_positionDriver.getAcmapCode());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product
+	*/
+	public Product getProduct()
+	{
+		Product _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		PositionQuantityData _data = (PositionQuantityData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ProductFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forproduct, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+				if (_related == null)
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = ProductFinder.productId().eq(_data.getProductId());
+					_result = ProductFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Product) _data.getProduct();
+			if (_result == null)
+			{
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProduct(Product product)
+	{
+		Product _product = (Product) product;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PositionQuantityData _data = (PositionQuantityData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProduct(_product);
+			if (_product == null)
+			{
+				this.setProductId(0);
+			}
+			else
+			{
+				this.setProductId(
+					_product.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_product == null)
+			{
+				this.setProductId(0);
+			}
+			else
+			{
+				this.setProductId(
+					_product.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.accountId = PositionAdjustmentHistory.accountId and this.productId = PositionAdjustmentHistory.productId and this.positionType =  1800 and this.businessDate = PositionAdjustmentHistory.businessDate )</pre>
+	* @see PositionAdjustmentHistory#getPositionQuantity() reverse relationship PositionAdjustmentHistory.getPositionQuantity()
+	* @return The adjustment history1800
+	*/
+	public PositionAdjustmentHistory getAdjustmentHistory1800()
+	{
+		PositionAdjustmentHistory _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		PositionQuantityData _data = (PositionQuantityData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (_data.getPositionType()==1800)
+			{
+				_portal = PositionAdjustmentHistoryFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneByIndexFromCache(this, _data, foradjustmentHistory1800, null, null, PositionAdjustmentHistoryFinder.zGetIndexbyPosRef());
+				if (!(_related instanceof NulledRelation)) _result = (PositionAdjustmentHistory) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(PositionQuantityFinder.adjustmentHistory1800().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (_data.getPositionType()==1800)
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(PositionQuantityFinder.adjustmentHistory1800().zGetRelationshipMultiExtractor(), this);
+					_result = PositionAdjustmentHistoryFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (PositionAdjustmentHistory) _data.getAdjustmentHistory1800();
+			if (_result == null)
+			{
+				if (_data.getPositionType()==1800)
+				{
+					_op = new RelationshipMultiEqualityOperation(PositionQuantityFinder.adjustmentHistory1800().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = PositionAdjustmentHistoryFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setAdjustmentHistory1800(PositionAdjustmentHistory adjustmentHistory1800)
+	{
+		PositionAdjustmentHistory _adjustmentHistory1800 = (PositionAdjustmentHistory) adjustmentHistory1800;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PositionQuantityData _data = (PositionQuantityData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAdjustmentHistory1800(_adjustmentHistory1800);
+			if (_adjustmentHistory1800 == null)
+			{
+				this.setAccountId(null);
+				this.setProductId(0);
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setAccountId(
+					_adjustmentHistory1800.getAccountId());
+				this.setProductId(
+					_adjustmentHistory1800.getProductId());
+				this.setAcmapCode(
+					_adjustmentHistory1800.getAcmapCode());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_adjustmentHistory1800 == null)
+			{
+				this.setAccountId(null);
+				this.setProductId(0);
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setAccountId(
+					_adjustmentHistory1800.getAccountId());
+				this.setProductId(
+					_adjustmentHistory1800.getProductId());
+				this.setAcmapCode(
+					_adjustmentHistory1800.getAcmapCode());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return PositionQuantityFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PositionQuantityData.PositionQuantityDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		PositionQuantityData data = (PositionQuantityData) PositionQuantityFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("PositionQuantity has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromPositionQuantityData( PositionQuantityData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromPositionQuantityData( PositionQuantityData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) PositionQuantityFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PositionQuantityFinder.getMithraObjectPortal();
+	}
+
+	public PositionQuantity getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(PositionQuantityAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		PositionQuantityAbstract from = (PositionQuantityAbstract) f;
+		PositionQuantityData newData = from.zSynchronizedGetData();
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		PositionQuantityData _newData = (PositionQuantityData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		PositionQuantityData _newData = (PositionQuantityData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(PositionQuantityAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		PositionQuantityAbstract from = (PositionQuantityAbstract)f;
+		PositionQuantityData newData = from.zSynchronizedGetData();
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		PositionQuantityData newData = (PositionQuantityData) d;
+		PositionQuantityData data = (PositionQuantityData) nd;
+		if (PositionQuantityFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, PositionQuantityFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, PositionQuantityFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PositionQuantityFinder.positionType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PositionQuantityFinder.productId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, PositionQuantityFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, PositionQuantityFinder.accountId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, PositionQuantityFinder.acmapCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, PositionQuantityFinder.positionType(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, PositionQuantityFinder.productId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, PositionQuantityFinder.quantity(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		PositionQuantityData data = ((PositionQuantityData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		PositionQuantityData data = ((PositionQuantityData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		PositionQuantityData data = ((PositionQuantityData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PositionQuantityFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PositionQuantityFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		PositionQuantityData localData = (PositionQuantityData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
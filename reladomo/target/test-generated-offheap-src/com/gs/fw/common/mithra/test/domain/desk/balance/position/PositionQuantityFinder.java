@@ -0,0 +1,1242 @@
+package com.gs.fw.common.mithra.test.domain.desk.balance.position;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.AccountFinder;
+import com.gs.fw.common.mithra.test.domain.PositionDriver;
+import com.gs.fw.common.mithra.test.domain.PositionDriverAbstract;
+import com.gs.fw.common.mithra.test.domain.PositionDriverData;
+import com.gs.fw.common.mithra.test.domain.PositionDriverFinder;
+import com.gs.fw.common.mithra.test.domain.PositionDriverList;
+import com.gs.fw.common.mithra.test.domain.Product;
+import com.gs.fw.common.mithra.test.domain.ProductAbstract;
+import com.gs.fw.common.mithra.test.domain.ProductData;
+import com.gs.fw.common.mithra.test.domain.ProductFinder;
+import com.gs.fw.common.mithra.test.domain.ProductList;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.*;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistory;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryAbstract;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryData;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryFinder;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PositionQuantityFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/desk/balance/position/PositionQuantity";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity");
+	private static final PositionQuantitySingleFinder<PositionQuantity, Object, PositionQuantity> finder = new PositionQuantitySingleFinder<PositionQuantity, Object, PositionQuantity>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(PositionQuantityFinder.PositionQuantityRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("positionType");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("positionDriver");
+		finderMethodMap.addRelationshipName("product");
+		finderMethodMap.addRelationshipName("adjustmentHistory1800");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[12];
+			result[0] = PositionQuantityFinder.accountId().constructEqualityMapper(AccountFinder.accountNumber());
+			result[1] = AccountFinder.accountNumber().constructEqualityMapper(PositionQuantityFinder.accountId());
+			result[2] = PositionQuantityFinder.acmapCode().constructEqualityMapper(AccountFinder.deskId());
+			result[3] = AccountFinder.deskId().constructEqualityMapper(PositionQuantityFinder.acmapCode());
+			result[4] = PositionQuantityFinder.accountId().constructEqualityMapper(PositionDriverFinder.accountId());
+			result[5] = PositionDriverFinder.accountId().constructEqualityMapper(PositionQuantityFinder.accountId());
+			result[6] = PositionQuantityFinder.productId().constructEqualityMapper(PositionDriverFinder.productId());
+			result[7] = PositionDriverFinder.productId().constructEqualityMapper(PositionQuantityFinder.productId());
+			result[8] = PositionQuantityFinder.acmapCode().constructEqualityMapper(PositionDriverFinder.acmapCode());
+			result[9] = PositionDriverFinder.acmapCode().constructEqualityMapper(PositionQuantityFinder.acmapCode());
+			result[10] = PositionQuantityFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			result[11] = ProductFinder.productId().constructEqualityMapper(PositionQuantityFinder.productId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = PositionQuantityFinder.positionType().eq(1800);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return PositionQuantityFinder.zSourceAttributeType;
+	}
+
+	public static PositionQuantity findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static PositionQuantity findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static PositionQuantityList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (PositionQuantityList) finder.findMany(operation);
+	}
+
+	public static PositionQuantityList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (PositionQuantityList) finder.findManyBypassCache(operation);
+	}
+
+	private static PositionQuantity findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (PositionQuantity) FinderUtils.findOne(found);
+	}
+
+	public static PositionQuantity findByPrimaryKey(String accountId, int productId, int positionType, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(accountId, productId, positionType, acmapCode, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PositionQuantityData _castedTargetData = (PositionQuantityData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountId()) && _bean.getI1AsInteger() == _castedTargetData.getProductId() && _bean.getI2AsInteger() == _castedTargetData.getPositionType() && _bean.getO2AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return PositionQuantityFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && PositionQuantityFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static PositionQuantity zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (PositionQuantity) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class PositionQuantityRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<PositionQuantity, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return PositionQuantityFinder.zSourceAttributeType;
+		}
+
+		private StringAttribute<ParentOwnerType> accountId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private IntegerAttribute<ParentOwnerType> positionType;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private PositionQuantityPositionDriverFinderSubclass<ParentOwnerType> positionDriver;
+		private PositionQuantityProductFinderSubclass<ParentOwnerType> product;
+		private PositionQuantityAdjustmentHistory1800FinderSubclass<ParentOwnerType> adjustmentHistory1800;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public PositionQuantityRelatedFinder()
+		{
+			super();
+		}
+
+		public PositionQuantityRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return PositionQuantityFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return PositionQuantityFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return PositionQuantityFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.accountId();
+			attributes[1] = this.productId();
+			attributes[2] = this.positionType();
+			attributes[3] = this.quantity();
+			attributes[4] = this.businessDateFrom();
+			attributes[5] = this.businessDateTo();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.positionDriver());
+				relatedFinders.add(this.product());
+				relatedFinders.add(this.adjustmentHistory1800());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public PositionQuantity findOne(com.gs.fw.finder.Operation operation)
+		{
+			return PositionQuantityFinder.findOne(operation, false);
+		}
+
+		public PositionQuantity findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return PositionQuantityFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends PositionQuantity> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new PositionQuantityList((Operation) operation);
+		}
+
+		public MithraList<? extends PositionQuantity> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			PositionQuantityList result = (PositionQuantityList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends PositionQuantity> constructEmptyList()
+		{
+			return new PositionQuantityList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 57089623;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return PositionQuantityFinder.zSourceAttributeType;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_NBR_C","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,20,true, false) :
+					new MappedStringAttribute(PositionQuantityFinder.accountId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("positionDriver");
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_SEC_ID_I","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,20,-1,-1,false, false) :
+					new MappedIntegerAttribute(PositionQuantityFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("product");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> positionType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.positionType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("POS_TYP_C","","positionType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,16,-1,-1,false, false) :
+					new MappedIntegerAttribute(PositionQuantityFinder.positionType(), this.mapper, this.zGetValueSelector());
+				this.positionType = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_QUANTITY_M","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,56,4,0, false) :
+					new MappedDoubleAttribute(PositionQuantityFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,PositionQuantityFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(PositionQuantityFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,PositionQuantityFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(PositionQuantityFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,PositionQuantityFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(PositionQuantityFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,PositionQuantityFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(PositionQuantityFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(PositionQuantityFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),PositionQuantityFinder.businessDateInfinity,false,true,PositionQuantityFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(PositionQuantityFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),PositionQuantityFinder.processingDateInfinity,false,true,PositionQuantityFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(PositionQuantityFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public PositionDriverFinder.PositionDriverSingleFinderForRelatedClasses<ParentOwnerType, PositionDriver, PositionQuantity> positionDriver()
+		{
+			PositionQuantityPositionDriverFinderSubclass<ParentOwnerType> result = this.positionDriver;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PositionQuantityFinder.zGetPositionQuantityPositionDriverReverseMapper());
+				newMapper.setToMany(false);
+				result = new PositionQuantityPositionDriverFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.positionDriver = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, PositionQuantity> product()
+		{
+			PositionQuantityProductFinderSubclass<ParentOwnerType> result = this.product;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PositionQuantityFinder.zGetPositionQuantityProductReverseMapper());
+				newMapper.setToMany(false);
+				result = new PositionQuantityProductFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.product = result;
+			}
+
+			return result;
+		}
+
+		public PositionAdjustmentHistoryFinder.PositionAdjustmentHistorySingleFinderForRelatedClasses<ParentOwnerType, PositionAdjustmentHistory, PositionQuantity> adjustmentHistory1800()
+		{
+			PositionQuantityAdjustmentHistory1800FinderSubclass<ParentOwnerType> result = this.adjustmentHistory1800;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PositionAdjustmentHistoryFinder.zGetPositionAdjustmentHistoryPositionQuantityMapper());
+				newMapper.setToMany(false);
+				result = new PositionQuantityAdjustmentHistory1800FinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.adjustmentHistory1800 = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return PositionQuantityFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return PositionQuantityFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return PositionQuantityFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class PositionQuantityCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends PositionQuantityRelatedFinder<ParentOwnerType, ReturnType, PositionQuantityList, OwnerType>
+	{
+		public PositionQuantityCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class PositionQuantityCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends PositionQuantityCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PositionQuantityCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class PositionQuantitySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends PositionQuantityRelatedFinder<ParentOwnerType, ReturnType, PositionQuantityList, OwnerType>
+	implements ToOneFinder
+	{
+		public PositionQuantitySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public PositionQuantitySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(PositionQuantity other)
+		{
+			return this.accountId().eq(other.getAccountId())
+			.and(this.productId().eq(other.getProductId()))
+			.and(this.positionType().eq(other.getPositionType()))
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public PositionQuantity findByPrimaryKey(String accountId, int productId, int positionType, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+		{
+			PositionQuantity _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountId != null && acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountId);
+				_bean.setI1AsInteger(productId);
+				_bean.setI2AsInteger(positionType);
+				_bean.setO2(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (PositionQuantity) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.productId().eq(productId)).and(this.positionType().eq(positionType)).and(this.acmapCode().eq(acmapCode)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class PositionQuantitySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends PositionQuantitySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PositionQuantitySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper positionDriverReverseMapper = null;
+	public static Mapper zGetPositionQuantityPositionDriverReverseMapper()
+	{
+		if (positionDriverReverseMapper == null)
+		{
+			positionDriverReverseMapper = zConstructPositionQuantityPositionDriverReverseMapper();
+		}
+
+		return positionDriverReverseMapper;
+	}
+
+	private static Mapper positionDriverMapper = null;
+	public static Mapper zGetPositionQuantityPositionDriverMapper()
+	{
+		if (positionDriverMapper == null)
+		{
+			positionDriverMapper = zConstructPositionQuantityPositionDriverMapper();
+		}
+
+		return positionDriverMapper;
+	}
+
+	private static Mapper positionDriverPureReverseMapper = null;
+	public static Mapper zGetPositionQuantityPositionDriverPureReverseMapper()
+	{
+		if (positionDriverPureReverseMapper == null)
+		{
+			positionDriverPureReverseMapper = zConstructPositionQuantityPositionDriverPureReverseMapper();
+		}
+
+		return positionDriverPureReverseMapper;
+	}
+
+	private static Mapper zConstructPositionQuantityPositionDriverPureReverseMapper()
+	{
+		InternalList positionDriverMapperMapperList = new InternalList(3);
+		positionDriverMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(4));
+		positionDriverMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(6));
+		positionDriverMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(8));
+		Mapper positionDriverMapper = new MultiEqualityMapper(positionDriverMapperMapperList);
+		positionDriverMapper.setName("positionDriver");
+		return positionDriverMapper;
+	}
+
+	private static Mapper zConstructPositionQuantityPositionDriverReverseMapper()
+	{
+		InternalList positionDriverMapperMapperList = new InternalList(3);
+		positionDriverMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(4));
+		positionDriverMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(6));
+		positionDriverMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(8));
+		Mapper positionDriverMapper = new MultiEqualityMapper(positionDriverMapperMapperList);
+		positionDriverMapper.setName("positionDriver");
+		return positionDriverMapper;
+	}
+
+	private static Mapper zConstructPositionQuantityPositionDriverMapper()
+	{
+		InternalList positionDriverMapperMapperList = new InternalList(3);
+		positionDriverMapperMapperList.add(PositionDriverFinder.zGetConstantJoin(0));
+		positionDriverMapperMapperList.add(PositionDriverFinder.zGetConstantJoin(2));
+		positionDriverMapperMapperList.add(PositionDriverFinder.zGetConstantJoin(4));
+		Mapper positionDriverMapper = new MultiEqualityMapper(positionDriverMapperMapperList);
+		positionDriverMapper.setName("positionDriver_Reverse");
+		return positionDriverMapper;
+	}
+
+	private static Mapper productReverseMapper = null;
+	public static Mapper zGetPositionQuantityProductReverseMapper()
+	{
+		if (productReverseMapper == null)
+		{
+			productReverseMapper = zConstructPositionQuantityProductReverseMapper();
+		}
+
+		return productReverseMapper;
+	}
+
+	private static Mapper productMapper = null;
+	public static Mapper zGetPositionQuantityProductMapper()
+	{
+		if (productMapper == null)
+		{
+			productMapper = zConstructPositionQuantityProductMapper();
+		}
+
+		return productMapper;
+	}
+
+	private static Mapper productPureReverseMapper = null;
+	public static Mapper zGetPositionQuantityProductPureReverseMapper()
+	{
+		if (productPureReverseMapper == null)
+		{
+			productPureReverseMapper = zConstructPositionQuantityProductPureReverseMapper();
+		}
+
+		return productPureReverseMapper;
+	}
+
+	private static Mapper zConstructPositionQuantityProductPureReverseMapper()
+	{
+		Mapper productMapper = PositionQuantityFinder.zGetConstantJoin(10);
+		productMapper.setName("product");
+		return productMapper;
+	}
+
+	private static Mapper zConstructPositionQuantityProductReverseMapper()
+	{
+		Mapper productMapper = PositionQuantityFinder.zGetConstantJoin(10);
+		productMapper.setName("product");
+		return productMapper;
+	}
+
+	private static Mapper zConstructPositionQuantityProductMapper()
+	{
+		Mapper productMapper = ProductFinder.zGetConstantJoin(2);
+		productMapper.setName("product_Reverse");
+		return productMapper;
+	}
+
+	/** maps to FROZEN_POSITION.ACCT_NBR_C **/
+	public static StringAttribute<PositionQuantity> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to FROZEN_POSITION.PROD_SEC_ID_I **/
+	public static IntegerAttribute<PositionQuantity> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to FROZEN_POSITION.POS_TYP_C **/
+	public static IntegerAttribute<PositionQuantity> positionType()
+	{
+		return finder.positionType();
+	}
+
+	/** maps to FROZEN_POSITION.POS_QUANTITY_M **/
+	public static DoubleAttribute<PositionQuantity> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to FROZEN_POSITION.FROM_Z **/
+	public static TimestampAttribute<PositionQuantity> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to FROZEN_POSITION.THRU_Z **/
+	public static TimestampAttribute<PositionQuantity> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to FROZEN_POSITION.IN_Z **/
+	public static TimestampAttribute<PositionQuantity> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to FROZEN_POSITION.OUT_Z **/
+	public static TimestampAttribute<PositionQuantity> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static StringAttribute<PositionQuantity> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static AsOfAttribute<PositionQuantity> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<PositionQuantity> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static PositionDriverFinder.PositionDriverSingleFinderForRelatedClasses<PositionQuantity, PositionDriver, PositionQuantity> positionDriver()
+	{
+		return finder.positionDriver();
+	}
+
+	public static class PositionQuantityPositionDriverFinderSubclass<ParentOwnerType> extends PositionDriverFinder.PositionDriverSingleFinderForRelatedClasses<ParentOwnerType, PositionDriver, PositionQuantity>
+	{
+		public PositionQuantityPositionDriverFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "positionDriver";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				PositionDriverFinder.accountId(),
+				PositionDriverFinder.productId(),
+				PositionDriverFinder.acmapCode()).withExtractors(
+				PositionQuantityFinder.accountId(),
+				PositionQuantityFinder.productId(),
+				PositionQuantityFinder.acmapCode()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PositionQuantityPositionDriverFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PositionDriver plainValueOf(PositionQuantity _obj)
+		{
+			return _obj.getPositionDriver();
+		}
+
+		protected PositionDriverList plainListValueOf(Object _obj)
+		{
+			return ((PositionQuantityList)_obj).getPositionDrivers();
+		}
+	}
+
+	public static ProductFinder.ProductSingleFinderForRelatedClasses<PositionQuantity, Product, PositionQuantity> product()
+	{
+		return finder.product();
+	}
+
+	public static class PositionQuantityProductFinderSubclass<ParentOwnerType> extends ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, PositionQuantity>
+	{
+		public PositionQuantityProductFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "product";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PositionQuantityProductFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Product plainValueOf(PositionQuantity _obj)
+		{
+			return _obj.getProduct();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((PositionQuantityList)_obj).getProducts();
+		}
+	}
+
+	public static PositionAdjustmentHistoryFinder.PositionAdjustmentHistorySingleFinderForRelatedClasses<PositionQuantity, PositionAdjustmentHistory, PositionQuantity> adjustmentHistory1800()
+	{
+		return finder.adjustmentHistory1800();
+	}
+
+	public static class PositionQuantityAdjustmentHistory1800FinderSubclass<ParentOwnerType> extends PositionAdjustmentHistoryFinder.PositionAdjustmentHistorySingleFinderForRelatedClasses<ParentOwnerType, PositionAdjustmentHistory, PositionQuantity>
+	{
+		public PositionQuantityAdjustmentHistory1800FinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "adjustmentHistory1800";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				PositionAdjustmentHistoryFinder.accountId(),
+				PositionAdjustmentHistoryFinder.productId(),
+				PositionAdjustmentHistoryFinder.businessDate(),
+				PositionAdjustmentHistoryFinder.acmapCode()).withExtractors(
+				PositionQuantityFinder.accountId(),
+				PositionQuantityFinder.productId(),
+				PositionQuantityFinder.businessDate(),
+				PositionQuantityFinder.acmapCode()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PositionQuantityAdjustmentHistory1800FinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PositionAdjustmentHistory plainValueOf(PositionQuantity _obj)
+		{
+			return _obj.getAdjustmentHistory1800();
+		}
+
+		protected PositionAdjustmentHistoryList plainListValueOf(Object _obj)
+		{
+			return ((PositionQuantityList)_obj).getAdjustmentHistory1800s();
+		}
+	}
+
+	public static Operation eq(PositionQuantity other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountId());
+	}
+
+	public static PositionQuantitySingleFinder<PositionQuantity, Object, PositionQuantity> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, productId()
+			, positionType()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, accountId()
+			, productId()
+			, positionType()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			accountId()
+			, acmapCode()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			accountId()
+			, acmapCode()
+			, productId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			acmapCode()
+			, productId()
+		}
+
+		);
+		cache.addIndex("3 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			PositionAdjustmentHistoryFinder.getFinderInstance(),PositionDriverFinder.getFinderInstance(),ProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			PositionAdjustmentHistoryFinder.getFinderInstance(),PositionDriverFinder.getFinderInstance(),ProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = quantity();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
@@ -0,0 +1,234 @@
+package com.gs.fw.common.mithra.test.domain.desk.balance.position;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.AccountFinder;
+import com.gs.fw.common.mithra.test.domain.PositionDriver;
+import com.gs.fw.common.mithra.test.domain.PositionDriverAbstract;
+import com.gs.fw.common.mithra.test.domain.PositionDriverData;
+import com.gs.fw.common.mithra.test.domain.PositionDriverFinder;
+import com.gs.fw.common.mithra.test.domain.PositionDriverList;
+import com.gs.fw.common.mithra.test.domain.Product;
+import com.gs.fw.common.mithra.test.domain.ProductAbstract;
+import com.gs.fw.common.mithra.test.domain.ProductData;
+import com.gs.fw.common.mithra.test.domain.ProductFinder;
+import com.gs.fw.common.mithra.test.domain.ProductList;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.*;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistory;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryAbstract;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryData;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryFinder;
+import com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PositionQuantityListAbstract extends DelegatingList<PositionQuantity> implements MithraDatedTransactionalList<PositionQuantity>
+{
+	public PositionQuantityListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PositionQuantityListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PositionQuantityListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PositionQuantityListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PositionQuantity[] elements()
+	{
+		PositionQuantity[] result = new PositionQuantity[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PositionQuantityList intersection(PositionQuantityList another)
+	{
+		return (PositionQuantityList)super.intersection(another);
+	}
+
+	public PositionQuantity getPositionQuantityAt(int index)
+	{
+		return (PositionQuantity)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.accountId = PositionDriver.accountId and this.productId = PositionDriver.productId</pre>
+	* @return The position driver
+	*/
+	public PositionDriverList getPositionDrivers()
+	{
+		return (PositionDriverList) this.zGetDelegated().resolveRelationship(this, PositionQuantityFinder.positionDriver());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product
+	*/
+	public ProductList getProducts()
+	{
+		return (ProductList) this.zGetDelegated().resolveRelationship(this, PositionQuantityFinder.product());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.accountId = PositionAdjustmentHistory.accountId and this.productId = PositionAdjustmentHistory.productId and this.positionType =  1800 and this.businessDate = PositionAdjustmentHistory.businessDate )</pre>
+	* @see PositionAdjustmentHistory#getPositionQuantity() reverse relationship PositionAdjustmentHistory.getPositionQuantity()
+	* @return The adjustment history1800
+	*/
+	public PositionAdjustmentHistoryList getAdjustmentHistory1800s()
+	{
+		return (PositionAdjustmentHistoryList) this.zGetDelegated().resolveRelationship(this, PositionQuantityFinder.adjustmentHistory1800());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PositionQuantityFinder.getMithraObjectPortal();
+	}
+
+	public PositionQuantityList getNonPersistentCopy()
+	{
+		PositionQuantityList result = new PositionQuantityList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PositionQuantityList asAdhoc()
+	{
+		return (PositionQuantityList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<PositionQuantity> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public PositionQuantityList merge(MithraTransactionalList<PositionQuantity> incoming, TopLevelMergeOptions<PositionQuantity> mergeOptions)
+	{
+		return (PositionQuantityList) super.merge(incoming, mergeOptions);
+	}
+
+	public PositionQuantityList getDetachedCopy()
+	{
+		PositionQuantityList result = new PositionQuantityList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(PositionQuantityFinder.accountId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(PositionQuantityFinder.productId(), newValue);
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(PositionQuantityFinder.positionType(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(PositionQuantityFinder.quantity(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PositionQuantityFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PositionQuantityFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PositionQuantityFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PositionQuantityFinder.processingDateTo(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(PositionQuantityFinder.acmapCode(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(PositionQuantityFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
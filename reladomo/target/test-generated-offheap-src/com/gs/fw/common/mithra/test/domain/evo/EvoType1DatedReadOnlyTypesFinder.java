@@ -0,0 +1,6442 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import com.gs.fw.common.mithra.test.domain.evo.other.EvoTypesLeaf2;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EvoType1DatedReadOnlyTypesFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/evo/EvoType1DatedReadOnlyTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.evo.EvoType1DatedReadOnlyTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1DatedReadOnlyTypes");
+	private static final EvoType1DatedReadOnlyTypesSingleFinder<EvoType1DatedReadOnlyTypes, Object, EvoType1DatedReadOnlyTypes> finder = new EvoType1DatedReadOnlyTypesSingleFinder<EvoType1DatedReadOnlyTypes, Object, EvoType1DatedReadOnlyTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(EvoType1DatedReadOnlyTypesFinder.EvoType1DatedReadOnlyTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("booleanAttribute");
+		finderMethodMap.addNormalAttributeName("byteAttribute");
+		finderMethodMap.addNormalAttributeName("charAttribute");
+		finderMethodMap.addNormalAttributeName("dateAttribute");
+		finderMethodMap.addNormalAttributeName("doubleAttribute");
+		finderMethodMap.addNormalAttributeName("floatAttribute");
+		finderMethodMap.addNormalAttributeName("intAttribute");
+		finderMethodMap.addNormalAttributeName("longAttribute");
+		finderMethodMap.addNormalAttributeName("shortAttribute");
+		finderMethodMap.addNormalAttributeName("stringAttribute");
+		finderMethodMap.addNormalAttributeName("timestampAttribute");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("pkBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("pkByteAttribute");
+		finderMethodMap.addNormalAttributeName("pkCharAttribute");
+		finderMethodMap.addNormalAttributeName("pkDateAttribute");
+		finderMethodMap.addNormalAttributeName("pkDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("pkFloatAttribute");
+		finderMethodMap.addNormalAttributeName("pkIntAttribute");
+		finderMethodMap.addNormalAttributeName("pkLongAttribute");
+		finderMethodMap.addNormalAttributeName("pkShortAttribute");
+		finderMethodMap.addNormalAttributeName("pkStringAttribute");
+		finderMethodMap.addNormalAttributeName("pkTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("pkBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("otherPackagedEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("rootEvoOrder");
+		finderMethodMap.addRelationshipName("rootEvoNestedEvoOrderStatus");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = EvoType1DatedReadOnlyTypesFinder.rootEvoIntAttribute().constructEqualityMapper(OrderFinder.orderId());
+			result[1] = OrderFinder.orderId().constructEqualityMapper(EvoType1DatedReadOnlyTypesFinder.rootEvoIntAttribute());
+			result[2] = EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoIntAttribute().constructEqualityMapper(OrderStatusFinder.orderId());
+			result[3] = OrderStatusFinder.orderId().constructEqualityMapper(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoIntAttribute());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static EvoType1DatedReadOnlyTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static EvoType1DatedReadOnlyTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static EvoType1DatedReadOnlyTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1DatedReadOnlyTypesList) finder.findMany(operation);
+	}
+
+	public static EvoType1DatedReadOnlyTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1DatedReadOnlyTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static EvoType1DatedReadOnlyTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (EvoType1DatedReadOnlyTypes) FinderUtils.findOne(found);
+	}
+
+	public static EvoType1DatedReadOnlyTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(pkBooleanAttribute, pkByteAttribute, pkCharAttribute, pkDateAttribute, pkDoubleAttribute, pkFloatAttribute, pkIntAttribute, pkLongAttribute, pkShortAttribute, pkStringAttribute, pkTimestampAttribute, pkBigDecimalAttribute, businessDate, processingDate);
+	}
+
+	public static EvoType1DatedReadOnlyTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (EvoType1DatedReadOnlyTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class EvoType1DatedReadOnlyTypesOtherPackagedEvoAttribute extends EvoTypesLeaf2.ManagedEvoTypesLeaf2Attribute
+	{
+		private final EvoType1DatedReadOnlyTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoAttribute(EvoType1DatedReadOnlyTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1DatedReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf2.class;
+		}
+
+		public EvoTypesLeaf2 evoTypesLeaf2ValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvo();
+		}
+
+		public void setEvoTypesLeaf2Value(Object o, EvoTypesLeaf2 newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyOtherPackagedEvo(newValue);
+		}
+
+		public void setEvoTypesLeaf2ValueUntil(Object o, EvoTypesLeaf2 newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyOtherPackagedEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.otherPackagedEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.otherPackagedEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.otherPackagedEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.otherPackagedEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.otherPackagedEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.otherPackagedEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.otherPackagedEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.otherPackagedEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.otherPackagedEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.otherPackagedEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.otherPackagedEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.otherPackagedEvoBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf2.ManagedEvoTypesLeaf2Attribute retrieveAttribute()
+		{
+			return this.finder.otherPackagedEvo();
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesPkAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType1DatedReadOnlyTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1DatedReadOnlyTypesPkAttribute(EvoType1DatedReadOnlyTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1DatedReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedReadOnlyTypes) o).getPk();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyPk(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyPkUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.pkBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.pkByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.pkCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.pkDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.pkDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.pkFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.pkIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.pkLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.pkShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.pkStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.pkTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.pkBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.pk();
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoAttribute extends EvoTypesRoot.ManagedEvoTypesRootAttribute
+	{
+		private final EvoType1DatedReadOnlyTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, Order> order;
+		public EvoType1DatedReadOnlyTypesRootEvoAttribute(EvoType1DatedReadOnlyTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.order = new EvoType1DatedReadOnlyTypesRootEvoAttributeOrderExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1DatedReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesRoot.class;
+		}
+
+		public EvoTypesRoot evoTypesRootValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvo();
+		}
+
+		public void setEvoTypesRootValue(Object o, EvoTypesRoot newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyRootEvo(newValue);
+		}
+
+		public void setEvoTypesRootValueUntil(Object o, EvoTypesRoot newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyRootEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoBigDecimalAttribute();
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses order()
+		{
+			return this.finder.rootEvoOrder();
+		}
+
+		public Extractor<Object, Order> zOrderExtractor()
+		{
+			return this.order;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses orderWithDate(Timestamp date)
+		{
+			return this.finder.rootEvoOrderWithDate(date);
+		}
+
+		public Extractor<Object, Order> zOrderWithDateExtractor(Timestamp date)
+		{
+			return new EvoType1DatedReadOnlyTypesRootEvoAttributeOrderWithDateExtractor(this.parentSelector, date);
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute nestedEvo()
+		{
+			return this.finder.rootEvoNestedEvo();
+		}
+
+		protected EvoTypesRoot.ManagedEvoTypesRootAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo();
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoAttributeOrderExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1DatedReadOnlyTypesRootEvoAttributeOrderExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoOrder();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).setRootEvoOrder((Order) o);
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoAttributeOrderWithDateExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private Timestamp date;
+		public EvoType1DatedReadOnlyTypesRootEvoAttributeOrderWithDateExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , Timestamp date)
+		{
+			this.parentSelector = parentSelector;
+			this.date = date;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoOrderWithDate(date);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoAttribute extends EvoTypesNested.ManagedEvoTypesNestedAttribute
+	{
+		private final EvoType1DatedReadOnlyTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, OrderStatus> orderStatus;
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoAttribute(EvoType1DatedReadOnlyTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.orderStatus = new EvoType1DatedReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1DatedReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesNested.class;
+		}
+
+		public EvoTypesNested evoTypesNestedValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvo();
+		}
+
+		public void setEvoTypesNestedValue(Object o, EvoTypesNested newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyRootEvoNestedEvo(newValue);
+		}
+
+		public void setEvoTypesNestedValueUntil(Object o, EvoTypesNested newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyRootEvoNestedEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatus()
+		{
+			return this.finder.rootEvoNestedEvoOrderStatus();
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusExtractor()
+		{
+			return this.orderStatus;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatusWithStatus(int status)
+		{
+			return this.finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusWithStatusExtractor(int status)
+		{
+			return new EvoType1DatedReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(this.parentSelector, status);
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute leafEvo()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvo();
+		}
+
+		protected EvoTypesNested.ManagedEvoTypesNestedAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo();
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoOrderStatus();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoOrderStatus((OrderStatus) o);
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private int status;
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , int status)
+		{
+			this.parentSelector = parentSelector;
+			this.status = status;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType1DatedReadOnlyTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoAttribute(EvoType1DatedReadOnlyTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1DatedReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvo();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyRootEvoNestedEvoLeafEvo(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedReadOnlyTypes) o).copyRootEvoNestedEvoLeafEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo().leafEvo();
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_PK","","pkBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isPkBooleanAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).isPkBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkByteAttributeAttribute()
+		{
+			super("BYTE_PK","","pkByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkByteAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkCharAttributeAttribute()
+		{
+			super("CHAR_PK","","pkCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkCharAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkDateAttributeAttribute()
+		{
+			super("DATE_PK","","pkDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkDateAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkDoubleAttributeAttribute()
+		{
+			super("DOUBLE_PK","","pkDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkDoubleAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkFloatAttributeAttribute()
+		{
+			super("FLOAT_PK","","pkFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkFloatAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkIntAttributeAttribute()
+		{
+			super("INT_PK","","pkIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkIntAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkLongAttributeAttribute()
+		{
+			super("LONG_PK","","pkLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkLongAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkShortAttributeAttribute()
+		{
+			super("SHORT_PK","","pkShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkShortAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkStringAttributeAttribute()
+		{
+			super("STRING_PK","","pkStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkStringAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_PK","","pkTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkTimestampAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesPkBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1DatedReadOnlyTypesPkBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_PK","","pkBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getPkBigDecimalAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getPkBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setPkBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setPkBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_OP","","otherPackagedEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isOtherPackagedEvoBooleanAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).isOtherPackagedEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isOtherPackagedEvoBooleanAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isOtherPackagedEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoByteAttributeAttribute()
+		{
+			super("BYTE_OP","","otherPackagedEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoByteAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isOtherPackagedEvoByteAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isOtherPackagedEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoCharAttributeAttribute()
+		{
+			super("CHAR_OP","","otherPackagedEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoCharAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isOtherPackagedEvoCharAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isOtherPackagedEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoDateAttributeAttribute()
+		{
+			super("DATE_OP","","otherPackagedEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoDateAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_OP","","otherPackagedEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoDoubleAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isOtherPackagedEvoDoubleAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isOtherPackagedEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_OP","","otherPackagedEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoFloatAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isOtherPackagedEvoFloatAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isOtherPackagedEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoIntAttributeAttribute()
+		{
+			super("INT_OP","","otherPackagedEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoIntAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isOtherPackagedEvoIntAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isOtherPackagedEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoLongAttributeAttribute()
+		{
+			super("LONG_OP","","otherPackagedEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoLongAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isOtherPackagedEvoLongAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isOtherPackagedEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoShortAttributeAttribute()
+		{
+			super("SHORT_OP","","otherPackagedEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoShortAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isOtherPackagedEvoShortAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isOtherPackagedEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoStringAttributeAttribute()
+		{
+			super("STRING_OP","","otherPackagedEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoStringAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_OP","","otherPackagedEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoTimestampAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesOtherPackagedEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1DatedReadOnlyTypesOtherPackagedEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_OP","","otherPackagedEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getOtherPackagedEvoBigDecimalAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getOtherPackagedEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setOtherPackagedEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setOtherPackagedEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_1","","rootEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoBooleanAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoBooleanAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoByteAttributeAttribute()
+		{
+			super("BYTE_1","","rootEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoByteAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoByteAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoCharAttributeAttribute()
+		{
+			super("CHAR_1","","rootEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoCharAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoCharAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoDateAttributeAttribute()
+		{
+			super("DATE_1","","rootEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoDateAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_1","","rootEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoDoubleAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoDoubleAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_1","","rootEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoFloatAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoFloatAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoIntAttributeAttribute()
+		{
+			super("INT_1","","rootEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoIntAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoIntAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoLongAttributeAttribute()
+		{
+			super("LONG_1","","rootEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoLongAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoLongAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoShortAttributeAttribute()
+		{
+			super("SHORT_1","","rootEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoShortAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoShortAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoStringAttributeAttribute()
+		{
+			super("STRING_1","","rootEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoStringAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_1","","rootEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoTimestampAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_1","","rootEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoBigDecimalAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_2","","rootEvoNestedEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoBooleanAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoBooleanAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoByteAttributeAttribute()
+		{
+			super("BYTE_2","","rootEvoNestedEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoByteAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoByteAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoCharAttributeAttribute()
+		{
+			super("CHAR_2","","rootEvoNestedEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoCharAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoCharAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoDateAttributeAttribute()
+		{
+			super("DATE_2","","rootEvoNestedEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoDateAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_2","","rootEvoNestedEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoDoubleAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoDoubleAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_2","","rootEvoNestedEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoFloatAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoFloatAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoIntAttributeAttribute()
+		{
+			super("INT_2","","rootEvoNestedEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoIntAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoIntAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLongAttributeAttribute()
+		{
+			super("LONG_2","","rootEvoNestedEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLongAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLongAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoShortAttributeAttribute()
+		{
+			super("SHORT_2","","rootEvoNestedEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoShortAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoShortAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoStringAttributeAttribute()
+		{
+			super("STRING_2","","rootEvoNestedEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoStringAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_2","","rootEvoNestedEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoTimestampAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_2","","rootEvoNestedEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,18,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoBigDecimalAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_3","","rootEvoNestedEvoLeafEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute()
+		{
+			super("BYTE_3","","rootEvoNestedEvoLeafEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute()
+		{
+			super("CHAR_3","","rootEvoNestedEvoLeafEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute()
+		{
+			super("DATE_3","","rootEvoNestedEvoLeafEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_3","","rootEvoNestedEvoLeafEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_3","","rootEvoNestedEvoLeafEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute()
+		{
+			super("INT_3","","rootEvoNestedEvoLeafEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute()
+		{
+			super("LONG_3","","rootEvoNestedEvoLeafEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute()
+		{
+			super("SHORT_3","","rootEvoNestedEvoLeafEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+			return ((EvoType1DatedReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute()
+		{
+			super("STRING_3","","rootEvoNestedEvoLeafEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_3","","rootEvoNestedEvoLeafEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_3","","rootEvoNestedEvoLeafEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData) return ((EvoType1DatedReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return ((EvoType1DatedReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1DatedReadOnlyTypesData)
+			{
+				((EvoType1DatedReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<EvoType1DatedReadOnlyTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private BooleanAttribute<ParentOwnerType> booleanAttribute;
+		private ByteAttribute<ParentOwnerType> byteAttribute;
+		private CharAttribute<ParentOwnerType> charAttribute;
+		private DateAttribute<ParentOwnerType> dateAttribute;
+		private DoubleAttribute<ParentOwnerType> doubleAttribute;
+		private FloatAttribute<ParentOwnerType> floatAttribute;
+		private IntegerAttribute<ParentOwnerType> intAttribute;
+		private LongAttribute<ParentOwnerType> longAttribute;
+		private ShortAttribute<ParentOwnerType> shortAttribute;
+		private StringAttribute<ParentOwnerType> stringAttribute;
+		private TimestampAttribute<ParentOwnerType> timestampAttribute;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private BooleanAttribute<ParentOwnerType> pkBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> pkByteAttribute;
+		private CharAttribute<ParentOwnerType> pkCharAttribute;
+		private DateAttribute<ParentOwnerType> pkDateAttribute;
+		private DoubleAttribute<ParentOwnerType> pkDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> pkFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> pkIntAttribute;
+		private LongAttribute<ParentOwnerType> pkLongAttribute;
+		private ShortAttribute<ParentOwnerType> pkShortAttribute;
+		private StringAttribute<ParentOwnerType> pkStringAttribute;
+		private TimestampAttribute<ParentOwnerType> pkTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> otherPackagedEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> otherPackagedEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> otherPackagedEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> otherPackagedEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> otherPackagedEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> otherPackagedEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> otherPackagedEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> otherPackagedEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> otherPackagedEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> otherPackagedEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> otherPackagedEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> otherPackagedEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private EvoType1DatedReadOnlyTypesRootEvoOrderFinderSubclass<ParentOwnerType> rootEvoOrder;
+		private EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> rootEvoNestedEvoOrderStatus;
+		private EvoTypesLeaf2.ManagedEvoTypesLeaf2Attribute otherPackagedEvo;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk;
+		private EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo;
+		private EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public EvoType1DatedReadOnlyTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public EvoType1DatedReadOnlyTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.evo.EvoType1DatedReadOnlyTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return EvoType1DatedReadOnlyTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return EvoType1DatedReadOnlyTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return EvoType1DatedReadOnlyTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[75];
+			attributes[0] = this.booleanAttribute();
+			attributes[1] = this.byteAttribute();
+			attributes[2] = this.charAttribute();
+			attributes[3] = this.dateAttribute();
+			attributes[4] = this.doubleAttribute();
+			attributes[5] = this.floatAttribute();
+			attributes[6] = this.intAttribute();
+			attributes[7] = this.longAttribute();
+			attributes[8] = this.shortAttribute();
+			attributes[9] = this.stringAttribute();
+			attributes[10] = this.timestampAttribute();
+			attributes[11] = this.businessDateFrom();
+			attributes[12] = this.businessDateTo();
+			attributes[13] = this.processingDateFrom();
+			attributes[14] = this.processingDateTo();
+			attributes[15] = this.pkBooleanAttribute();
+			attributes[16] = this.pkByteAttribute();
+			attributes[17] = this.pkCharAttribute();
+			attributes[18] = this.pkDateAttribute();
+			attributes[19] = this.pkDoubleAttribute();
+			attributes[20] = this.pkFloatAttribute();
+			attributes[21] = this.pkIntAttribute();
+			attributes[22] = this.pkLongAttribute();
+			attributes[23] = this.pkShortAttribute();
+			attributes[24] = this.pkStringAttribute();
+			attributes[25] = this.pkTimestampAttribute();
+			attributes[26] = this.pkBigDecimalAttribute();
+			attributes[27] = this.otherPackagedEvoBooleanAttribute();
+			attributes[28] = this.otherPackagedEvoByteAttribute();
+			attributes[29] = this.otherPackagedEvoCharAttribute();
+			attributes[30] = this.otherPackagedEvoDateAttribute();
+			attributes[31] = this.otherPackagedEvoDoubleAttribute();
+			attributes[32] = this.otherPackagedEvoFloatAttribute();
+			attributes[33] = this.otherPackagedEvoIntAttribute();
+			attributes[34] = this.otherPackagedEvoLongAttribute();
+			attributes[35] = this.otherPackagedEvoShortAttribute();
+			attributes[36] = this.otherPackagedEvoStringAttribute();
+			attributes[37] = this.otherPackagedEvoTimestampAttribute();
+			attributes[38] = this.otherPackagedEvoBigDecimalAttribute();
+			attributes[39] = this.rootEvoBooleanAttribute();
+			attributes[40] = this.rootEvoByteAttribute();
+			attributes[41] = this.rootEvoCharAttribute();
+			attributes[42] = this.rootEvoDateAttribute();
+			attributes[43] = this.rootEvoDoubleAttribute();
+			attributes[44] = this.rootEvoFloatAttribute();
+			attributes[45] = this.rootEvoIntAttribute();
+			attributes[46] = this.rootEvoLongAttribute();
+			attributes[47] = this.rootEvoShortAttribute();
+			attributes[48] = this.rootEvoStringAttribute();
+			attributes[49] = this.rootEvoTimestampAttribute();
+			attributes[50] = this.rootEvoBigDecimalAttribute();
+			attributes[51] = this.rootEvoNestedEvoBooleanAttribute();
+			attributes[52] = this.rootEvoNestedEvoByteAttribute();
+			attributes[53] = this.rootEvoNestedEvoCharAttribute();
+			attributes[54] = this.rootEvoNestedEvoDateAttribute();
+			attributes[55] = this.rootEvoNestedEvoDoubleAttribute();
+			attributes[56] = this.rootEvoNestedEvoFloatAttribute();
+			attributes[57] = this.rootEvoNestedEvoIntAttribute();
+			attributes[58] = this.rootEvoNestedEvoLongAttribute();
+			attributes[59] = this.rootEvoNestedEvoShortAttribute();
+			attributes[60] = this.rootEvoNestedEvoStringAttribute();
+			attributes[61] = this.rootEvoNestedEvoTimestampAttribute();
+			attributes[62] = this.rootEvoNestedEvoBigDecimalAttribute();
+			attributes[63] = this.rootEvoNestedEvoLeafEvoBooleanAttribute();
+			attributes[64] = this.rootEvoNestedEvoLeafEvoByteAttribute();
+			attributes[65] = this.rootEvoNestedEvoLeafEvoCharAttribute();
+			attributes[66] = this.rootEvoNestedEvoLeafEvoDateAttribute();
+			attributes[67] = this.rootEvoNestedEvoLeafEvoDoubleAttribute();
+			attributes[68] = this.rootEvoNestedEvoLeafEvoFloatAttribute();
+			attributes[69] = this.rootEvoNestedEvoLeafEvoIntAttribute();
+			attributes[70] = this.rootEvoNestedEvoLeafEvoLongAttribute();
+			attributes[71] = this.rootEvoNestedEvoLeafEvoShortAttribute();
+			attributes[72] = this.rootEvoNestedEvoLeafEvoStringAttribute();
+			attributes[73] = this.rootEvoNestedEvoLeafEvoTimestampAttribute();
+			attributes[74] = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.rootEvoOrder());
+				relatedFinders.add(this.rootEvoNestedEvoOrderStatus());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public EvoType1DatedReadOnlyTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1DatedReadOnlyTypesFinder.findOne(operation, false);
+		}
+
+		public EvoType1DatedReadOnlyTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1DatedReadOnlyTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends EvoType1DatedReadOnlyTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new EvoType1DatedReadOnlyTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends EvoType1DatedReadOnlyTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			EvoType1DatedReadOnlyTypesList result = (EvoType1DatedReadOnlyTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends EvoType1DatedReadOnlyTypes> constructEmptyList()
+		{
+			return new EvoType1DatedReadOnlyTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1391631143;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public EvoTypesLeaf2.ManagedEvoTypesLeaf2Attribute otherPackagedEvo()
+		{
+			EvoTypesLeaf2.ManagedEvoTypesLeaf2Attribute result = this.otherPackagedEvo;
+			if (result == null)
+			{
+				result = new EvoType1DatedReadOnlyTypesOtherPackagedEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.otherPackagedEvo = result;
+			return result;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.pk;
+			if (result == null)
+			{
+				result = new EvoType1DatedReadOnlyTypesPkAttribute(this, this.zGetValueSelector());
+			}
+
+			this.pk = result;
+			return result;
+		}
+
+		public EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+		{
+			EvoTypesRoot.ManagedEvoTypesRootAttribute result = this.rootEvo;
+			if (result == null)
+			{
+				result = new EvoType1DatedReadOnlyTypesRootEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvo = result;
+			return result;
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+		{
+			EvoTypesNested.ManagedEvoTypesNestedAttribute result = this.rootEvoNestedEvo;
+			if (result == null)
+			{
+				result = new EvoType1DatedReadOnlyTypesRootEvoNestedEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvo = result;
+			return result;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.rootEvoNestedEvoLeafEvo;
+			if (result == null)
+			{
+				result = new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvoLeafEvo = result;
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOLEAN_0","","booleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(EvoType1DatedReadOnlyTypesFinder.booleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.booleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_0","","byteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedByteAttribute(EvoType1DatedReadOnlyTypesFinder.byteAttribute(), this.mapper, this.zGetValueSelector());
+				this.byteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.charAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_0","","charAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedCharAttribute(EvoType1DatedReadOnlyTypesFinder.charAttribute(), this.mapper, this.zGetValueSelector());
+				this.charAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> dateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.dateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATE_0","","dateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(EvoType1DatedReadOnlyTypesFinder.dateAttribute(), this.mapper, this.zGetValueSelector());
+				this.dateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_0","","doubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(EvoType1DatedReadOnlyTypesFinder.doubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.doubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_0","","floatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(EvoType1DatedReadOnlyTypesFinder.floatAttribute(), this.mapper, this.zGetValueSelector());
+				this.floatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_0","","intAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(EvoType1DatedReadOnlyTypesFinder.intAttribute(), this.mapper, this.zGetValueSelector());
+				this.intAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.longAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_0","","longAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(EvoType1DatedReadOnlyTypesFinder.longAttribute(), this.mapper, this.zGetValueSelector());
+				this.longAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_0","","shortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedShortAttribute(EvoType1DatedReadOnlyTypesFinder.shortAttribute(), this.mapper, this.zGetValueSelector());
+				this.shortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> stringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.stringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STRING_0","","stringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(EvoType1DatedReadOnlyTypesFinder.stringAttribute(), this.mapper, this.zGetValueSelector());
+				this.stringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> timestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.timestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TIMESTAMP_0","","timestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.timestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.timestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,EvoType1DatedReadOnlyTypesFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,EvoType1DatedReadOnlyTypesFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,EvoType1DatedReadOnlyTypesFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,EvoType1DatedReadOnlyTypesFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> pkBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.pkBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1DatedReadOnlyTypesFinder.pkBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> pkByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.pkByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1DatedReadOnlyTypesFinder.pkByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> pkCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.pkCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1DatedReadOnlyTypesFinder.pkCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> pkDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.pkDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1DatedReadOnlyTypesFinder.pkDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> pkDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.pkDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1DatedReadOnlyTypesFinder.pkDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> pkFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.pkFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1DatedReadOnlyTypesFinder.pkFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> pkIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.pkIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1DatedReadOnlyTypesFinder.pkIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> pkLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.pkLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1DatedReadOnlyTypesFinder.pkLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> pkShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.pkShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1DatedReadOnlyTypesFinder.pkShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> pkStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.pkStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1DatedReadOnlyTypesFinder.pkStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> pkTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.pkTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.pkTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.pkBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesPkBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1DatedReadOnlyTypesFinder.pkBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> otherPackagedEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.otherPackagedEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> otherPackagedEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.otherPackagedEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> otherPackagedEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.otherPackagedEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> otherPackagedEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.otherPackagedEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> otherPackagedEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.otherPackagedEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> otherPackagedEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.otherPackagedEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> otherPackagedEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.otherPackagedEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> otherPackagedEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.otherPackagedEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> otherPackagedEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.otherPackagedEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> otherPackagedEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.otherPackagedEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> otherPackagedEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.otherPackagedEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> otherPackagedEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.otherPackagedEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesOtherPackagedEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1DatedReadOnlyTypesFinder.otherPackagedEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.otherPackagedEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedReadOnlyTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1DatedReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),EvoType1DatedReadOnlyTypesFinder.businessDateInfinity,false,false,EvoType1DatedReadOnlyTypesFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(EvoType1DatedReadOnlyTypesFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),EvoType1DatedReadOnlyTypesFinder.processingDateInfinity,false,false,EvoType1DatedReadOnlyTypesFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(EvoType1DatedReadOnlyTypesFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1DatedReadOnlyTypes> rootEvoOrder()
+		{
+			EvoType1DatedReadOnlyTypesRootEvoOrderFinderSubclass<ParentOwnerType> result = this.rootEvoOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType1DatedReadOnlyTypesFinder.zGetEvoType1DatedReadOnlyTypesRootEvoOrderReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType1DatedReadOnlyTypesRootEvoOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoOrder = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1DatedReadOnlyTypes> rootEvoOrderWithDate(Timestamp date)
+		{
+			EvoType1DatedReadOnlyTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType1DatedReadOnlyTypesFinder.zGetEvoType1DatedReadOnlyTypesRootEvoOrderWithDateReverseMapper(date));
+			newMapper.setToMany(false);
+			result = new EvoType1DatedReadOnlyTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,date);
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1DatedReadOnlyTypes> rootEvoNestedEvoOrderStatus()
+		{
+			EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> result = this.rootEvoNestedEvoOrderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType1DatedReadOnlyTypesFinder.zGetEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoNestedEvoOrderStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1DatedReadOnlyTypes> rootEvoNestedEvoOrderStatusWithStatus(int status)
+		{
+			EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType1DatedReadOnlyTypesFinder.zGetEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(status));
+			newMapper.setToMany(false);
+			result = new EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,status);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return EvoType1DatedReadOnlyTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return EvoType1DatedReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends EvoType1DatedReadOnlyTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1DatedReadOnlyTypesList, OwnerType>
+	{
+		public EvoType1DatedReadOnlyTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class EvoType1DatedReadOnlyTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends EvoType1DatedReadOnlyTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1DatedReadOnlyTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class EvoType1DatedReadOnlyTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends EvoType1DatedReadOnlyTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1DatedReadOnlyTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public EvoType1DatedReadOnlyTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public EvoType1DatedReadOnlyTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(EvoType1DatedReadOnlyTypes other)
+		{
+			return this.pkBooleanAttribute().eq(other.isPkBooleanAttribute())
+			.and(this.pkByteAttribute().eq(other.getPkByteAttribute()))
+			.and(this.pkCharAttribute().eq(other.getPkCharAttribute()))
+			.and(this.pkDateAttribute().eq(other.getPkDateAttribute()))
+			.and(this.pkDoubleAttribute().eq(other.getPkDoubleAttribute()))
+			.and(this.pkFloatAttribute().eq(other.getPkFloatAttribute()))
+			.and(this.pkIntAttribute().eq(other.getPkIntAttribute()))
+			.and(this.pkLongAttribute().eq(other.getPkLongAttribute()))
+			.and(this.pkShortAttribute().eq(other.getPkShortAttribute()))
+			.and(this.pkStringAttribute().eq(other.getPkStringAttribute()))
+			.and(this.pkTimestampAttribute().eq(other.getPkTimestampAttribute()))
+			.and(this.pkBigDecimalAttribute().eq(other.getPkBigDecimalAttribute()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public EvoType1DatedReadOnlyTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute, Timestamp businessDate, Timestamp processingDate)
+		{
+			EvoType1DatedReadOnlyTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (!(_related instanceof NulledRelation)) _result = (EvoType1DatedReadOnlyTypes) _related;
+			if (_related == null)
+			{
+				_op = this.pkBooleanAttribute().eq(pkBooleanAttribute).and(this.pkByteAttribute().eq(pkByteAttribute)).and(this.pkCharAttribute().eq(pkCharAttribute)).and(this.pkDateAttribute().eq(pkDateAttribute)).and(this.pkDoubleAttribute().eq(pkDoubleAttribute)).and(this.pkFloatAttribute().eq(pkFloatAttribute)).and(this.pkIntAttribute().eq(pkIntAttribute)).and(this.pkLongAttribute().eq(pkLongAttribute)).and(this.pkShortAttribute().eq(pkShortAttribute)).and(this.pkStringAttribute().eq(pkStringAttribute)).and(this.pkTimestampAttribute().eq(pkTimestampAttribute)).and(this.pkBigDecimalAttribute().eq(pkBigDecimalAttribute)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class EvoType1DatedReadOnlyTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends EvoType1DatedReadOnlyTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1DatedReadOnlyTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper rootEvoOrderReverseMapper = null;
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoOrderReverseMapper()
+	{
+		if (rootEvoOrderReverseMapper == null)
+		{
+			rootEvoOrderReverseMapper = zConstructEvoType1DatedReadOnlyTypesRootEvoOrderReverseMapper();
+		}
+
+		return rootEvoOrderReverseMapper;
+	}
+
+	private static Mapper rootEvoOrderMapper = null;
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoOrderMapper()
+	{
+		if (rootEvoOrderMapper == null)
+		{
+			rootEvoOrderMapper = zConstructEvoType1DatedReadOnlyTypesRootEvoOrderMapper();
+		}
+
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper rootEvoOrderPureReverseMapper = null;
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoOrderPureReverseMapper()
+	{
+		if (rootEvoOrderPureReverseMapper == null)
+		{
+			rootEvoOrderPureReverseMapper = zConstructEvoType1DatedReadOnlyTypesRootEvoOrderPureReverseMapper();
+		}
+
+		return rootEvoOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoOrderPureReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoOrderReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoOrderMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(1);
+		rootEvoOrderMapper.setName("rootEvoOrder_Reverse");
+		return rootEvoOrderMapper;
+	}
+
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		return zConstructEvoType1DatedReadOnlyTypesRootEvoOrderWithDateReverseMapper(date);
+	}
+
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoOrderWithDateMapper(Timestamp date)
+	{
+		return zConstructEvoType1DatedReadOnlyTypesRootEvoOrderWithDateMapper(date);
+	}
+
+	private static Mapper rootEvoOrderWithDatePureReverseMapper = null;
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoOrderWithDatePureReverseMapper()
+	{
+		if (rootEvoOrderWithDatePureReverseMapper == null)
+		{
+			rootEvoOrderWithDatePureReverseMapper = zConstructEvoType1DatedReadOnlyTypesRootEvoOrderWithDatePureReverseMapper();
+		}
+
+		return rootEvoOrderWithDatePureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoOrderWithDatePureReverseMapper()
+	{
+		Mapper rootEvoOrderWithDateMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(0);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, null, OrderFinder.orderDate().eq(date));
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoOrderWithDateMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(1);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, OrderFinder.orderDate().eq(date), null);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate_Reverse");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusReverseMapper = null;
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusReverseMapper = zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusReverseMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusMapper = null;
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusMapper = zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusPureReverseMapper = zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(3);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		return zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(status);
+	}
+
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		return zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusMapper(status);
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(2);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, null, OrderStatusFinder.status().eq(status));
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType1DatedReadOnlyTypesFinder.zGetConstantJoin(3);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, OrderStatusFinder.status().eq(status), null);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	public static EvoTypesLeaf2.ManagedEvoTypesLeaf2Attribute otherPackagedEvo()
+	{
+		return finder.otherPackagedEvo();
+	}
+
+	public static EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+	{
+		return finder.pk();
+	}
+
+	public static EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+	{
+		return finder.rootEvo();
+	}
+
+	protected static EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+	{
+		return finder.rootEvoNestedEvo();
+	}
+
+	protected static EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+	{
+		return finder.rootEvoNestedEvoLeafEvo();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.BOOLEAN_0 **/
+	public static BooleanAttribute<EvoType1DatedReadOnlyTypes> booleanAttribute()
+	{
+		return finder.booleanAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.BYTE_0 **/
+	public static ByteAttribute<EvoType1DatedReadOnlyTypes> byteAttribute()
+	{
+		return finder.byteAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.CHAR_0 **/
+	public static CharAttribute<EvoType1DatedReadOnlyTypes> charAttribute()
+	{
+		return finder.charAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.DATE_0 **/
+	public static DateAttribute<EvoType1DatedReadOnlyTypes> dateAttribute()
+	{
+		return finder.dateAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.DOUBLE_0 **/
+	public static DoubleAttribute<EvoType1DatedReadOnlyTypes> doubleAttribute()
+	{
+		return finder.doubleAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.FLOAT_0 **/
+	public static FloatAttribute<EvoType1DatedReadOnlyTypes> floatAttribute()
+	{
+		return finder.floatAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.INT_0 **/
+	public static IntegerAttribute<EvoType1DatedReadOnlyTypes> intAttribute()
+	{
+		return finder.intAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.LONG_0 **/
+	public static LongAttribute<EvoType1DatedReadOnlyTypes> longAttribute()
+	{
+		return finder.longAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.SHORT_0 **/
+	public static ShortAttribute<EvoType1DatedReadOnlyTypes> shortAttribute()
+	{
+		return finder.shortAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.STRING_0 **/
+	public static StringAttribute<EvoType1DatedReadOnlyTypes> stringAttribute()
+	{
+		return finder.stringAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.TIMESTAMP_0 **/
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> timestampAttribute()
+	{
+		return finder.timestampAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.FROM_Z **/
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.THRU_Z **/
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.IN_Z **/
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to EVO_TYPE1_DATED_READ_ONLY_TYPES.OUT_Z **/
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static BooleanAttribute<EvoType1DatedReadOnlyTypes> pkBooleanAttribute()
+	{
+		return finder.pkBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1DatedReadOnlyTypes> pkByteAttribute()
+	{
+		return finder.pkByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1DatedReadOnlyTypes> pkCharAttribute()
+	{
+		return finder.pkCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1DatedReadOnlyTypes> pkDateAttribute()
+	{
+		return finder.pkDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1DatedReadOnlyTypes> pkDoubleAttribute()
+	{
+		return finder.pkDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1DatedReadOnlyTypes> pkFloatAttribute()
+	{
+		return finder.pkFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1DatedReadOnlyTypes> pkIntAttribute()
+	{
+		return finder.pkIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1DatedReadOnlyTypes> pkLongAttribute()
+	{
+		return finder.pkLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1DatedReadOnlyTypes> pkShortAttribute()
+	{
+		return finder.pkShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1DatedReadOnlyTypes> pkStringAttribute()
+	{
+		return finder.pkStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> pkTimestampAttribute()
+	{
+		return finder.pkTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1DatedReadOnlyTypes> pkBigDecimalAttribute()
+	{
+		return finder.pkBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoBooleanAttribute()
+	{
+		return finder.otherPackagedEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoByteAttribute()
+	{
+		return finder.otherPackagedEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoCharAttribute()
+	{
+		return finder.otherPackagedEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoDateAttribute()
+	{
+		return finder.otherPackagedEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoDoubleAttribute()
+	{
+		return finder.otherPackagedEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoFloatAttribute()
+	{
+		return finder.otherPackagedEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoIntAttribute()
+	{
+		return finder.otherPackagedEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoLongAttribute()
+	{
+		return finder.otherPackagedEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoShortAttribute()
+	{
+		return finder.otherPackagedEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoStringAttribute()
+	{
+		return finder.otherPackagedEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoTimestampAttribute()
+	{
+		return finder.otherPackagedEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1DatedReadOnlyTypes> otherPackagedEvoBigDecimalAttribute()
+	{
+		return finder.otherPackagedEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1DatedReadOnlyTypes> rootEvoBooleanAttribute()
+	{
+		return finder.rootEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1DatedReadOnlyTypes> rootEvoByteAttribute()
+	{
+		return finder.rootEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1DatedReadOnlyTypes> rootEvoCharAttribute()
+	{
+		return finder.rootEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1DatedReadOnlyTypes> rootEvoDateAttribute()
+	{
+		return finder.rootEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1DatedReadOnlyTypes> rootEvoDoubleAttribute()
+	{
+		return finder.rootEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1DatedReadOnlyTypes> rootEvoFloatAttribute()
+	{
+		return finder.rootEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1DatedReadOnlyTypes> rootEvoIntAttribute()
+	{
+		return finder.rootEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1DatedReadOnlyTypes> rootEvoLongAttribute()
+	{
+		return finder.rootEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1DatedReadOnlyTypes> rootEvoShortAttribute()
+	{
+		return finder.rootEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1DatedReadOnlyTypes> rootEvoStringAttribute()
+	{
+		return finder.rootEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> rootEvoTimestampAttribute()
+	{
+		return finder.rootEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1DatedReadOnlyTypes> rootEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1DatedReadOnlyTypes> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	}
+
+	public static AsOfAttribute<EvoType1DatedReadOnlyTypes> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<EvoType1DatedReadOnlyTypes> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType1DatedReadOnlyTypes, Order, EvoType1DatedReadOnlyTypes> rootEvoOrder()
+	{
+		return finder.rootEvoOrder();
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1DatedReadOnlyTypes>
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1DatedReadOnlyTypesRootEvoOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(EvoType1DatedReadOnlyTypes _obj)
+		{
+			return _obj.getRootEvoOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1DatedReadOnlyTypesList)_obj).getRootEvoOrders();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType1DatedReadOnlyTypes, Order, EvoType1DatedReadOnlyTypes> rootEvoOrderWithDate(Timestamp date)
+	{
+		return finder.rootEvoOrderWithDate(date);
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1DatedReadOnlyTypes>
+	{
+		private Timestamp date;
+		public EvoType1DatedReadOnlyTypesRootEvoOrderWithDateFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp date)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.date = date;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrderWithDate";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1DatedReadOnlyTypesRootEvoOrderWithDateFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.date
+			);
+		}
+
+		protected Order plainValueOf(EvoType1DatedReadOnlyTypes _obj)
+		{
+			return _obj.getRootEvoOrderWithDate(date);
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1DatedReadOnlyTypesList)_obj).getRootEvoOrderWithDates(date);
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType1DatedReadOnlyTypes, OrderStatus, EvoType1DatedReadOnlyTypes> rootEvoNestedEvoOrderStatus()
+	{
+		return finder.rootEvoNestedEvoOrderStatus();
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1DatedReadOnlyTypes>
+	{
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType1DatedReadOnlyTypes _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatus();
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1DatedReadOnlyTypesList)_obj).getRootEvoNestedEvoOrderStatus();
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType1DatedReadOnlyTypes, OrderStatus, EvoType1DatedReadOnlyTypes> rootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+	}
+
+	public static class EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1DatedReadOnlyTypes>
+	{
+		private int status;
+		public EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int status)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.status = status;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatusWithStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1DatedReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.status
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType1DatedReadOnlyTypes _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1DatedReadOnlyTypesList)_obj).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+	}
+
+	public static Operation eq(EvoType1DatedReadOnlyTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(pkBooleanAttribute());
+	}
+
+	public static EvoType1DatedReadOnlyTypesSingleFinder<EvoType1DatedReadOnlyTypes, Object, EvoType1DatedReadOnlyTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			booleanAttribute()
+			, pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			rootEvoIntAttribute()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			rootEvoNestedEvoIntAttribute()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[6];
+		result[0] = doubleAttribute();
+		result[1] = pkDoubleAttribute();
+		result[2] = otherPackagedEvoDoubleAttribute();
+		result[3] = rootEvoDoubleAttribute();
+		result[4] = rootEvoNestedEvoDoubleAttribute();
+		result[5] = rootEvoNestedEvoLeafEvoDoubleAttribute();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[5];
+		result[0] = pkBigDecimalAttribute();
+		result[1] = otherPackagedEvoBigDecimalAttribute();
+		result[2] = rootEvoBigDecimalAttribute();
+		result[3] = rootEvoNestedEvoBigDecimalAttribute();
+		result[4] = rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1DatedReadOnlyTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,5456 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EvoType1DatedTxnTypesFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/evo/EvoType1DatedTxnTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.evo.EvoType1DatedTxnTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1DatedTxnTypes");
+	private static final EvoType1DatedTxnTypesSingleFinder<EvoType1DatedTxnTypes, Object, EvoType1DatedTxnTypes> finder = new EvoType1DatedTxnTypesSingleFinder<EvoType1DatedTxnTypes, Object, EvoType1DatedTxnTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(EvoType1DatedTxnTypesFinder.EvoType1DatedTxnTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("booleanAttribute");
+		finderMethodMap.addNormalAttributeName("byteAttribute");
+		finderMethodMap.addNormalAttributeName("charAttribute");
+		finderMethodMap.addNormalAttributeName("dateAttribute");
+		finderMethodMap.addNormalAttributeName("doubleAttribute");
+		finderMethodMap.addNormalAttributeName("floatAttribute");
+		finderMethodMap.addNormalAttributeName("intAttribute");
+		finderMethodMap.addNormalAttributeName("longAttribute");
+		finderMethodMap.addNormalAttributeName("shortAttribute");
+		finderMethodMap.addNormalAttributeName("stringAttribute");
+		finderMethodMap.addNormalAttributeName("timestampAttribute");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("pkBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("pkByteAttribute");
+		finderMethodMap.addNormalAttributeName("pkCharAttribute");
+		finderMethodMap.addNormalAttributeName("pkDateAttribute");
+		finderMethodMap.addNormalAttributeName("pkDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("pkFloatAttribute");
+		finderMethodMap.addNormalAttributeName("pkIntAttribute");
+		finderMethodMap.addNormalAttributeName("pkLongAttribute");
+		finderMethodMap.addNormalAttributeName("pkShortAttribute");
+		finderMethodMap.addNormalAttributeName("pkStringAttribute");
+		finderMethodMap.addNormalAttributeName("pkTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("pkBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("rootEvoOrder");
+		finderMethodMap.addRelationshipName("rootEvoNestedEvoOrderStatus");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = EvoType1DatedTxnTypesFinder.rootEvoIntAttribute().constructEqualityMapper(OrderFinder.orderId());
+			result[1] = OrderFinder.orderId().constructEqualityMapper(EvoType1DatedTxnTypesFinder.rootEvoIntAttribute());
+			result[2] = EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute().constructEqualityMapper(OrderStatusFinder.orderId());
+			result[3] = OrderStatusFinder.orderId().constructEqualityMapper(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static EvoType1DatedTxnTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static EvoType1DatedTxnTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static EvoType1DatedTxnTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1DatedTxnTypesList) finder.findMany(operation);
+	}
+
+	public static EvoType1DatedTxnTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1DatedTxnTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static EvoType1DatedTxnTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (EvoType1DatedTxnTypes) FinderUtils.findOne(found);
+	}
+
+	public static EvoType1DatedTxnTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(pkBooleanAttribute, pkByteAttribute, pkCharAttribute, pkDateAttribute, pkDoubleAttribute, pkFloatAttribute, pkIntAttribute, pkLongAttribute, pkShortAttribute, pkStringAttribute, pkTimestampAttribute, pkBigDecimalAttribute, businessDate, processingDate);
+	}
+
+	public static EvoType1DatedTxnTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (EvoType1DatedTxnTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class EvoType1DatedTxnTypesPkAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType1DatedTxnTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1DatedTxnTypesPkAttribute(EvoType1DatedTxnTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1DatedTxnTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedTxnTypes) o).getPk();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedTxnTypes) o).copyPk(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedTxnTypes) o).copyPkUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.pkBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.pkByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.pkCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.pkDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.pkDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.pkFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.pkIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.pkLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.pkShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.pkStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.pkTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.pkBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.pk();
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoAttribute extends EvoTypesRoot.ManagedEvoTypesRootAttribute
+	{
+		private final EvoType1DatedTxnTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, Order> order;
+		public EvoType1DatedTxnTypesRootEvoAttribute(EvoType1DatedTxnTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.order = new EvoType1DatedTxnTypesRootEvoAttributeOrderExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1DatedTxnTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesRoot.class;
+		}
+
+		public EvoTypesRoot evoTypesRootValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedTxnTypes) o).getRootEvo();
+		}
+
+		public void setEvoTypesRootValue(Object o, EvoTypesRoot newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedTxnTypes) o).copyRootEvo(newValue);
+		}
+
+		public void setEvoTypesRootValueUntil(Object o, EvoTypesRoot newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedTxnTypes) o).copyRootEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoBigDecimalAttribute();
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses order()
+		{
+			return this.finder.rootEvoOrder();
+		}
+
+		public Extractor<Object, Order> zOrderExtractor()
+		{
+			return this.order;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses orderWithDate(Timestamp date)
+		{
+			return this.finder.rootEvoOrderWithDate(date);
+		}
+
+		public Extractor<Object, Order> zOrderWithDateExtractor(Timestamp date)
+		{
+			return new EvoType1DatedTxnTypesRootEvoAttributeOrderWithDateExtractor(this.parentSelector, date);
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute nestedEvo()
+		{
+			return this.finder.rootEvoNestedEvo();
+		}
+
+		protected EvoTypesRoot.ManagedEvoTypesRootAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo();
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoAttributeOrderExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1DatedTxnTypesRootEvoAttributeOrderExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedTxnTypes) o).getRootEvoOrder();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType1DatedTxnTypes) o).setRootEvoOrder((Order) o);
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoAttributeOrderWithDateExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private Timestamp date;
+		public EvoType1DatedTxnTypesRootEvoAttributeOrderWithDateExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , Timestamp date)
+		{
+			this.parentSelector = parentSelector;
+			this.date = date;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedTxnTypes) o).getRootEvoOrderWithDate(date);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoNestedEvoAttribute extends EvoTypesNested.ManagedEvoTypesNestedAttribute
+	{
+		private final EvoType1DatedTxnTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, OrderStatus> orderStatus;
+		public EvoType1DatedTxnTypesRootEvoNestedEvoAttribute(EvoType1DatedTxnTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.orderStatus = new EvoType1DatedTxnTypesRootEvoNestedEvoAttributeOrderStatusExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1DatedTxnTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesNested.class;
+		}
+
+		public EvoTypesNested evoTypesNestedValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvo();
+		}
+
+		public void setEvoTypesNestedValue(Object o, EvoTypesNested newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedTxnTypes) o).copyRootEvoNestedEvo(newValue);
+		}
+
+		public void setEvoTypesNestedValueUntil(Object o, EvoTypesNested newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedTxnTypes) o).copyRootEvoNestedEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatus()
+		{
+			return this.finder.rootEvoNestedEvoOrderStatus();
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusExtractor()
+		{
+			return this.orderStatus;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatusWithStatus(int status)
+		{
+			return this.finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusWithStatusExtractor(int status)
+		{
+			return new EvoType1DatedTxnTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(this.parentSelector, status);
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute leafEvo()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvo();
+		}
+
+		protected EvoTypesNested.ManagedEvoTypesNestedAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo();
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoNestedEvoAttributeOrderStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1DatedTxnTypesRootEvoNestedEvoAttributeOrderStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoOrderStatus();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoOrderStatus((OrderStatus) o);
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private int status;
+		public EvoType1DatedTxnTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , int status)
+		{
+			this.parentSelector = parentSelector;
+			this.status = status;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType1DatedTxnTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoAttribute(EvoType1DatedTxnTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1DatedTxnTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvo();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedTxnTypes) o).copyRootEvoNestedEvoLeafEvo(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1DatedTxnTypes) o).copyRootEvoNestedEvoLeafEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo().leafEvo();
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1DatedTxnTypesPkBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_PK","","pkBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isPkBooleanAttribute();
+			return ((EvoType1DatedTxnTypes) o).isPkBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkBooleanAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1DatedTxnTypesPkByteAttributeAttribute()
+		{
+			super("BYTE_PK","","pkByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkByteAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkByteAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1DatedTxnTypesPkCharAttributeAttribute()
+		{
+			super("CHAR_PK","","pkCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkCharAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkCharAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1DatedTxnTypesPkDateAttributeAttribute()
+		{
+			super("DATE_PK","","pkDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkDateAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkDateAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1DatedTxnTypesPkDoubleAttributeAttribute()
+		{
+			super("DOUBLE_PK","","pkDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkDoubleAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void increment(Object o, double increment)
+		{
+			((EvoType1DatedTxnTypes) o).incrementPkDoubleAttribute(increment);
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).incrementPkDoubleAttributeUntil(increment, exclusiveUntil);
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkDoubleAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1DatedTxnTypesPkFloatAttributeAttribute()
+		{
+			super("FLOAT_PK","","pkFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkFloatAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkFloatAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1DatedTxnTypesPkIntAttributeAttribute()
+		{
+			super("INT_PK","","pkIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkIntAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkIntAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1DatedTxnTypesPkLongAttributeAttribute()
+		{
+			super("LONG_PK","","pkLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkLongAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkLongAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1DatedTxnTypesPkShortAttributeAttribute()
+		{
+			super("SHORT_PK","","pkShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkShortAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkShortAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1DatedTxnTypesPkStringAttributeAttribute()
+		{
+			super("STRING_PK","","pkStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkStringAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkStringAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1DatedTxnTypesPkTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_PK","","pkTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkTimestampAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkTimestampAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesPkBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1DatedTxnTypesPkBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_PK","","pkBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,true,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getPkBigDecimalAttribute();
+			return ((EvoType1DatedTxnTypes) o).getPkBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setPkBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setPkBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			((EvoType1DatedTxnTypes) o).incrementPkBigDecimalAttribute(increment);
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).incrementPkBigDecimalAttributeUntil(increment, exclusiveUntil);
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setPkBigDecimalAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_1","","rootEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoBooleanAttribute();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoBooleanAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoBooleanAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoBooleanAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoByteAttributeAttribute()
+		{
+			super("BYTE_1","","rootEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoByteAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoByteAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoByteAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoByteAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoCharAttributeAttribute()
+		{
+			super("CHAR_1","","rootEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoCharAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoCharAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoCharAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoCharAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoDateAttributeAttribute()
+		{
+			super("DATE_1","","rootEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoDateAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoDateAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_1","","rootEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoDoubleAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoDoubleAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoDoubleAttribute(increment);
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoDoubleAttributeUntil(increment, exclusiveUntil);
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoDoubleAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoDoubleAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_1","","rootEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoFloatAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoFloatAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoFloatAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoFloatAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoIntAttributeAttribute()
+		{
+			super("INT_1","","rootEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoIntAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoIntAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoIntAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoIntAttributeNullUntil(exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoLongAttributeAttribute()
+		{
+			super("LONG_1","","rootEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoLongAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoLongAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoLongAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoLongAttributeNullUntil(exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoShortAttributeAttribute()
+		{
+			super("SHORT_1","","rootEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoShortAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoShortAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoShortAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoShortAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoStringAttributeAttribute()
+		{
+			super("STRING_1","","rootEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoStringAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoStringAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_1","","rootEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoTimestampAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoTimestampAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_1","","rootEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoBigDecimalAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoBigDecimalAttribute(increment);
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoBigDecimalAttributeUntil(increment, exclusiveUntil);
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoBigDecimalAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_2","","rootEvoNestedEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoBooleanAttribute();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoBooleanAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoBooleanAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoBooleanAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoByteAttributeAttribute()
+		{
+			super("BYTE_2","","rootEvoNestedEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoByteAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoByteAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoByteAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoByteAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoCharAttributeAttribute()
+		{
+			super("CHAR_2","","rootEvoNestedEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoCharAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoCharAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoCharAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoCharAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoDateAttributeAttribute()
+		{
+			super("DATE_2","","rootEvoNestedEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoDateAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoDateAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_2","","rootEvoNestedEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoDoubleAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoDoubleAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoNestedEvoDoubleAttribute(increment);
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoNestedEvoDoubleAttributeUntil(increment, exclusiveUntil);
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoDoubleAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoDoubleAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_2","","rootEvoNestedEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoFloatAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoFloatAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoFloatAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoFloatAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoIntAttributeAttribute()
+		{
+			super("INT_2","","rootEvoNestedEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoIntAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoIntAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoIntAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoIntAttributeNullUntil(exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLongAttributeAttribute()
+		{
+			super("LONG_2","","rootEvoNestedEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLongAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLongAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLongAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLongAttributeNullUntil(exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoShortAttributeAttribute()
+		{
+			super("SHORT_2","","rootEvoNestedEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoShortAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoShortAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoShortAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoShortAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoStringAttributeAttribute()
+		{
+			super("STRING_2","","rootEvoNestedEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoStringAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoStringAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_2","","rootEvoNestedEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoTimestampAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoTimestampAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_2","","rootEvoNestedEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoBigDecimalAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoNestedEvoBigDecimalAttribute(increment);
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoNestedEvoBigDecimalAttributeUntil(increment, exclusiveUntil);
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoBigDecimalAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_3","","rootEvoNestedEvoLeafEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute()
+		{
+			super("BYTE_3","","rootEvoNestedEvoLeafEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoByteAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoByteAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute()
+		{
+			super("CHAR_3","","rootEvoNestedEvoLeafEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoCharAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoCharAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute()
+		{
+			super("DATE_3","","rootEvoNestedEvoLeafEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoDateAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_3","","rootEvoNestedEvoLeafEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoNestedEvoLeafEvoDoubleAttribute(increment);
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoNestedEvoLeafEvoDoubleAttributeUntil(increment, exclusiveUntil);
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_3","","rootEvoNestedEvoLeafEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoFloatAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoFloatAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute()
+		{
+			super("INT_3","","rootEvoNestedEvoLeafEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoIntAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoIntAttributeNullUntil(exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute()
+		{
+			super("LONG_3","","rootEvoNestedEvoLeafEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoLongAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoLongAttributeNullUntil(exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute()
+		{
+			super("SHORT_3","","rootEvoNestedEvoLeafEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+			return ((EvoType1DatedTxnTypes) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoShortAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoShortAttributeNullUntil(exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute()
+		{
+			super("STRING_3","","rootEvoNestedEvoLeafEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoStringAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_3","","rootEvoNestedEvoLeafEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoTimestampAttributeUntil(newValue, exclusiveUntil);
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_3","","rootEvoNestedEvoLeafEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,true,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData) return ((EvoType1DatedTxnTypesData) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return ((EvoType1DatedTxnTypes) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1DatedTxnTypesData)
+			{
+				((EvoType1DatedTxnTypesData) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoNestedEvoLeafEvoBigDecimalAttribute(increment);
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).incrementRootEvoNestedEvoLeafEvoBigDecimalAttributeUntil(increment, exclusiveUntil);
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			((EvoType1DatedTxnTypes) o).setRootEvoNestedEvoLeafEvoBigDecimalAttributeUntil(newValue, exclusiveUntil);
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<EvoType1DatedTxnTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private BooleanAttribute<ParentOwnerType> booleanAttribute;
+		private ByteAttribute<ParentOwnerType> byteAttribute;
+		private CharAttribute<ParentOwnerType> charAttribute;
+		private DateAttribute<ParentOwnerType> dateAttribute;
+		private DoubleAttribute<ParentOwnerType> doubleAttribute;
+		private FloatAttribute<ParentOwnerType> floatAttribute;
+		private IntegerAttribute<ParentOwnerType> intAttribute;
+		private LongAttribute<ParentOwnerType> longAttribute;
+		private ShortAttribute<ParentOwnerType> shortAttribute;
+		private StringAttribute<ParentOwnerType> stringAttribute;
+		private TimestampAttribute<ParentOwnerType> timestampAttribute;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private BooleanAttribute<ParentOwnerType> pkBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> pkByteAttribute;
+		private CharAttribute<ParentOwnerType> pkCharAttribute;
+		private DateAttribute<ParentOwnerType> pkDateAttribute;
+		private DoubleAttribute<ParentOwnerType> pkDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> pkFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> pkIntAttribute;
+		private LongAttribute<ParentOwnerType> pkLongAttribute;
+		private ShortAttribute<ParentOwnerType> pkShortAttribute;
+		private StringAttribute<ParentOwnerType> pkStringAttribute;
+		private TimestampAttribute<ParentOwnerType> pkTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private EvoType1DatedTxnTypesRootEvoOrderFinderSubclass<ParentOwnerType> rootEvoOrder;
+		private EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> rootEvoNestedEvoOrderStatus;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk;
+		private EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo;
+		private EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public EvoType1DatedTxnTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public EvoType1DatedTxnTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.evo.EvoType1DatedTxnTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return EvoType1DatedTxnTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return EvoType1DatedTxnTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return EvoType1DatedTxnTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[63];
+			attributes[0] = this.booleanAttribute();
+			attributes[1] = this.byteAttribute();
+			attributes[2] = this.charAttribute();
+			attributes[3] = this.dateAttribute();
+			attributes[4] = this.doubleAttribute();
+			attributes[5] = this.floatAttribute();
+			attributes[6] = this.intAttribute();
+			attributes[7] = this.longAttribute();
+			attributes[8] = this.shortAttribute();
+			attributes[9] = this.stringAttribute();
+			attributes[10] = this.timestampAttribute();
+			attributes[11] = this.businessDateFrom();
+			attributes[12] = this.businessDateTo();
+			attributes[13] = this.processingDateFrom();
+			attributes[14] = this.processingDateTo();
+			attributes[15] = this.pkBooleanAttribute();
+			attributes[16] = this.pkByteAttribute();
+			attributes[17] = this.pkCharAttribute();
+			attributes[18] = this.pkDateAttribute();
+			attributes[19] = this.pkDoubleAttribute();
+			attributes[20] = this.pkFloatAttribute();
+			attributes[21] = this.pkIntAttribute();
+			attributes[22] = this.pkLongAttribute();
+			attributes[23] = this.pkShortAttribute();
+			attributes[24] = this.pkStringAttribute();
+			attributes[25] = this.pkTimestampAttribute();
+			attributes[26] = this.pkBigDecimalAttribute();
+			attributes[27] = this.rootEvoBooleanAttribute();
+			attributes[28] = this.rootEvoByteAttribute();
+			attributes[29] = this.rootEvoCharAttribute();
+			attributes[30] = this.rootEvoDateAttribute();
+			attributes[31] = this.rootEvoDoubleAttribute();
+			attributes[32] = this.rootEvoFloatAttribute();
+			attributes[33] = this.rootEvoIntAttribute();
+			attributes[34] = this.rootEvoLongAttribute();
+			attributes[35] = this.rootEvoShortAttribute();
+			attributes[36] = this.rootEvoStringAttribute();
+			attributes[37] = this.rootEvoTimestampAttribute();
+			attributes[38] = this.rootEvoBigDecimalAttribute();
+			attributes[39] = this.rootEvoNestedEvoBooleanAttribute();
+			attributes[40] = this.rootEvoNestedEvoByteAttribute();
+			attributes[41] = this.rootEvoNestedEvoCharAttribute();
+			attributes[42] = this.rootEvoNestedEvoDateAttribute();
+			attributes[43] = this.rootEvoNestedEvoDoubleAttribute();
+			attributes[44] = this.rootEvoNestedEvoFloatAttribute();
+			attributes[45] = this.rootEvoNestedEvoIntAttribute();
+			attributes[46] = this.rootEvoNestedEvoLongAttribute();
+			attributes[47] = this.rootEvoNestedEvoShortAttribute();
+			attributes[48] = this.rootEvoNestedEvoStringAttribute();
+			attributes[49] = this.rootEvoNestedEvoTimestampAttribute();
+			attributes[50] = this.rootEvoNestedEvoBigDecimalAttribute();
+			attributes[51] = this.rootEvoNestedEvoLeafEvoBooleanAttribute();
+			attributes[52] = this.rootEvoNestedEvoLeafEvoByteAttribute();
+			attributes[53] = this.rootEvoNestedEvoLeafEvoCharAttribute();
+			attributes[54] = this.rootEvoNestedEvoLeafEvoDateAttribute();
+			attributes[55] = this.rootEvoNestedEvoLeafEvoDoubleAttribute();
+			attributes[56] = this.rootEvoNestedEvoLeafEvoFloatAttribute();
+			attributes[57] = this.rootEvoNestedEvoLeafEvoIntAttribute();
+			attributes[58] = this.rootEvoNestedEvoLeafEvoLongAttribute();
+			attributes[59] = this.rootEvoNestedEvoLeafEvoShortAttribute();
+			attributes[60] = this.rootEvoNestedEvoLeafEvoStringAttribute();
+			attributes[61] = this.rootEvoNestedEvoLeafEvoTimestampAttribute();
+			attributes[62] = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.rootEvoOrder());
+				relatedFinders.add(this.rootEvoNestedEvoOrderStatus());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public EvoType1DatedTxnTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1DatedTxnTypesFinder.findOne(operation, false);
+		}
+
+		public EvoType1DatedTxnTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1DatedTxnTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends EvoType1DatedTxnTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new EvoType1DatedTxnTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends EvoType1DatedTxnTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			EvoType1DatedTxnTypesList result = (EvoType1DatedTxnTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends EvoType1DatedTxnTypes> constructEmptyList()
+		{
+			return new EvoType1DatedTxnTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -511972458;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.pk;
+			if (result == null)
+			{
+				result = new EvoType1DatedTxnTypesPkAttribute(this, this.zGetValueSelector());
+			}
+
+			this.pk = result;
+			return result;
+		}
+
+		public EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+		{
+			EvoTypesRoot.ManagedEvoTypesRootAttribute result = this.rootEvo;
+			if (result == null)
+			{
+				result = new EvoType1DatedTxnTypesRootEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvo = result;
+			return result;
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+		{
+			EvoTypesNested.ManagedEvoTypesNestedAttribute result = this.rootEvoNestedEvo;
+			if (result == null)
+			{
+				result = new EvoType1DatedTxnTypesRootEvoNestedEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvo = result;
+			return result;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.rootEvoNestedEvoLeafEvo;
+			if (result == null)
+			{
+				result = new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvoLeafEvo = result;
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOLEAN_0","","booleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(EvoType1DatedTxnTypesFinder.booleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.booleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_0","","byteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(EvoType1DatedTxnTypesFinder.byteAttribute(), this.mapper, this.zGetValueSelector());
+				this.byteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.charAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_0","","charAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(EvoType1DatedTxnTypesFinder.charAttribute(), this.mapper, this.zGetValueSelector());
+				this.charAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> dateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.dateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATE_0","","dateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(EvoType1DatedTxnTypesFinder.dateAttribute(), this.mapper, this.zGetValueSelector());
+				this.dateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_0","","doubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(EvoType1DatedTxnTypesFinder.doubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.doubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_0","","floatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(EvoType1DatedTxnTypesFinder.floatAttribute(), this.mapper, this.zGetValueSelector());
+				this.floatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_0","","intAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(EvoType1DatedTxnTypesFinder.intAttribute(), this.mapper, this.zGetValueSelector());
+				this.intAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.longAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_0","","longAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(EvoType1DatedTxnTypesFinder.longAttribute(), this.mapper, this.zGetValueSelector());
+				this.longAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_0","","shortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(EvoType1DatedTxnTypesFinder.shortAttribute(), this.mapper, this.zGetValueSelector());
+				this.shortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> stringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.stringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STRING_0","","stringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(EvoType1DatedTxnTypesFinder.stringAttribute(), this.mapper, this.zGetValueSelector());
+				this.stringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> timestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.timestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TIMESTAMP_0","","timestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedTxnTypesFinder.timestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.timestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,EvoType1DatedTxnTypesFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedTxnTypesFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,EvoType1DatedTxnTypesFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedTxnTypesFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,EvoType1DatedTxnTypesFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedTxnTypesFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,EvoType1DatedTxnTypesFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1DatedTxnTypesFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> pkBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.pkBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1DatedTxnTypesFinder.pkBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> pkByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.pkByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1DatedTxnTypesFinder.pkByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> pkCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.pkCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1DatedTxnTypesFinder.pkCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> pkDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.pkDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1DatedTxnTypesFinder.pkDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> pkDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.pkDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1DatedTxnTypesFinder.pkDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> pkFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.pkFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1DatedTxnTypesFinder.pkFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> pkIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.pkIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1DatedTxnTypesFinder.pkIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> pkLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.pkLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1DatedTxnTypesFinder.pkLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> pkShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.pkShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1DatedTxnTypesFinder.pkShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> pkStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.pkStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1DatedTxnTypesFinder.pkStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> pkTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.pkTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1DatedTxnTypesFinder.pkTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.pkBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesPkBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1DatedTxnTypesFinder.rootEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1DatedTxnTypesFinder.rootEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1DatedTxnTypesFinder.rootEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1DatedTxnTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),EvoType1DatedTxnTypesFinder.businessDateInfinity,false,false,EvoType1DatedTxnTypesFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(EvoType1DatedTxnTypesFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),EvoType1DatedTxnTypesFinder.processingDateInfinity,false,false,EvoType1DatedTxnTypesFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(EvoType1DatedTxnTypesFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1DatedTxnTypes> rootEvoOrder()
+		{
+			EvoType1DatedTxnTypesRootEvoOrderFinderSubclass<ParentOwnerType> result = this.rootEvoOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType1DatedTxnTypesFinder.zGetEvoType1DatedTxnTypesRootEvoOrderReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType1DatedTxnTypesRootEvoOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoOrder = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1DatedTxnTypes> rootEvoOrderWithDate(Timestamp date)
+		{
+			EvoType1DatedTxnTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType1DatedTxnTypesFinder.zGetEvoType1DatedTxnTypesRootEvoOrderWithDateReverseMapper(date));
+			newMapper.setToMany(false);
+			result = new EvoType1DatedTxnTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,date);
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1DatedTxnTypes> rootEvoNestedEvoOrderStatus()
+		{
+			EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> result = this.rootEvoNestedEvoOrderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType1DatedTxnTypesFinder.zGetEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoNestedEvoOrderStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1DatedTxnTypes> rootEvoNestedEvoOrderStatusWithStatus(int status)
+		{
+			EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType1DatedTxnTypesFinder.zGetEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(status));
+			newMapper.setToMany(false);
+			result = new EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,status);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return EvoType1DatedTxnTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return EvoType1DatedTxnTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends EvoType1DatedTxnTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1DatedTxnTypesList, OwnerType>
+	{
+		public EvoType1DatedTxnTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class EvoType1DatedTxnTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends EvoType1DatedTxnTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1DatedTxnTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class EvoType1DatedTxnTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends EvoType1DatedTxnTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1DatedTxnTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public EvoType1DatedTxnTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public EvoType1DatedTxnTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(EvoType1DatedTxnTypes other)
+		{
+			return this.pkBooleanAttribute().eq(other.isPkBooleanAttribute())
+			.and(this.pkByteAttribute().eq(other.getPkByteAttribute()))
+			.and(this.pkCharAttribute().eq(other.getPkCharAttribute()))
+			.and(this.pkDateAttribute().eq(other.getPkDateAttribute()))
+			.and(this.pkDoubleAttribute().eq(other.getPkDoubleAttribute()))
+			.and(this.pkFloatAttribute().eq(other.getPkFloatAttribute()))
+			.and(this.pkIntAttribute().eq(other.getPkIntAttribute()))
+			.and(this.pkLongAttribute().eq(other.getPkLongAttribute()))
+			.and(this.pkShortAttribute().eq(other.getPkShortAttribute()))
+			.and(this.pkStringAttribute().eq(other.getPkStringAttribute()))
+			.and(this.pkTimestampAttribute().eq(other.getPkTimestampAttribute()))
+			.and(this.pkBigDecimalAttribute().eq(other.getPkBigDecimalAttribute()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public EvoType1DatedTxnTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute, Timestamp businessDate, Timestamp processingDate)
+		{
+			EvoType1DatedTxnTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (!(_related instanceof NulledRelation)) _result = (EvoType1DatedTxnTypes) _related;
+			if (_related == null)
+			{
+				_op = this.pkBooleanAttribute().eq(pkBooleanAttribute).and(this.pkByteAttribute().eq(pkByteAttribute)).and(this.pkCharAttribute().eq(pkCharAttribute)).and(this.pkDateAttribute().eq(pkDateAttribute)).and(this.pkDoubleAttribute().eq(pkDoubleAttribute)).and(this.pkFloatAttribute().eq(pkFloatAttribute)).and(this.pkIntAttribute().eq(pkIntAttribute)).and(this.pkLongAttribute().eq(pkLongAttribute)).and(this.pkShortAttribute().eq(pkShortAttribute)).and(this.pkStringAttribute().eq(pkStringAttribute)).and(this.pkTimestampAttribute().eq(pkTimestampAttribute)).and(this.pkBigDecimalAttribute().eq(pkBigDecimalAttribute)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class EvoType1DatedTxnTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends EvoType1DatedTxnTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1DatedTxnTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper rootEvoOrderReverseMapper = null;
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoOrderReverseMapper()
+	{
+		if (rootEvoOrderReverseMapper == null)
+		{
+			rootEvoOrderReverseMapper = zConstructEvoType1DatedTxnTypesRootEvoOrderReverseMapper();
+		}
+
+		return rootEvoOrderReverseMapper;
+	}
+
+	private static Mapper rootEvoOrderMapper = null;
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoOrderMapper()
+	{
+		if (rootEvoOrderMapper == null)
+		{
+			rootEvoOrderMapper = zConstructEvoType1DatedTxnTypesRootEvoOrderMapper();
+		}
+
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper rootEvoOrderPureReverseMapper = null;
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoOrderPureReverseMapper()
+	{
+		if (rootEvoOrderPureReverseMapper == null)
+		{
+			rootEvoOrderPureReverseMapper = zConstructEvoType1DatedTxnTypesRootEvoOrderPureReverseMapper();
+		}
+
+		return rootEvoOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoOrderPureReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoOrderReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoOrderMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(1);
+		rootEvoOrderMapper.setName("rootEvoOrder_Reverse");
+		return rootEvoOrderMapper;
+	}
+
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		return zConstructEvoType1DatedTxnTypesRootEvoOrderWithDateReverseMapper(date);
+	}
+
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoOrderWithDateMapper(Timestamp date)
+	{
+		return zConstructEvoType1DatedTxnTypesRootEvoOrderWithDateMapper(date);
+	}
+
+	private static Mapper rootEvoOrderWithDatePureReverseMapper = null;
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoOrderWithDatePureReverseMapper()
+	{
+		if (rootEvoOrderWithDatePureReverseMapper == null)
+		{
+			rootEvoOrderWithDatePureReverseMapper = zConstructEvoType1DatedTxnTypesRootEvoOrderWithDatePureReverseMapper();
+		}
+
+		return rootEvoOrderWithDatePureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoOrderWithDatePureReverseMapper()
+	{
+		Mapper rootEvoOrderWithDateMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(0);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, null, OrderFinder.orderDate().eq(date));
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoOrderWithDateMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(1);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, OrderFinder.orderDate().eq(date), null);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate_Reverse");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusReverseMapper = null;
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusReverseMapper = zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusReverseMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusMapper = null;
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusMapper = zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusPureReverseMapper = zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(3);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		return zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(status);
+	}
+
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		return zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusMapper(status);
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(2);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, null, OrderStatusFinder.status().eq(status));
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType1DatedTxnTypesFinder.zGetConstantJoin(3);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, OrderStatusFinder.status().eq(status), null);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	public static EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+	{
+		return finder.pk();
+	}
+
+	public static EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+	{
+		return finder.rootEvo();
+	}
+
+	protected static EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+	{
+		return finder.rootEvoNestedEvo();
+	}
+
+	protected static EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+	{
+		return finder.rootEvoNestedEvoLeafEvo();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.BOOLEAN_0 **/
+	public static BooleanAttribute<EvoType1DatedTxnTypes> booleanAttribute()
+	{
+		return finder.booleanAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.BYTE_0 **/
+	public static ByteAttribute<EvoType1DatedTxnTypes> byteAttribute()
+	{
+		return finder.byteAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.CHAR_0 **/
+	public static CharAttribute<EvoType1DatedTxnTypes> charAttribute()
+	{
+		return finder.charAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.DATE_0 **/
+	public static DateAttribute<EvoType1DatedTxnTypes> dateAttribute()
+	{
+		return finder.dateAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.DOUBLE_0 **/
+	public static DoubleAttribute<EvoType1DatedTxnTypes> doubleAttribute()
+	{
+		return finder.doubleAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.FLOAT_0 **/
+	public static FloatAttribute<EvoType1DatedTxnTypes> floatAttribute()
+	{
+		return finder.floatAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.INT_0 **/
+	public static IntegerAttribute<EvoType1DatedTxnTypes> intAttribute()
+	{
+		return finder.intAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.LONG_0 **/
+	public static LongAttribute<EvoType1DatedTxnTypes> longAttribute()
+	{
+		return finder.longAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.SHORT_0 **/
+	public static ShortAttribute<EvoType1DatedTxnTypes> shortAttribute()
+	{
+		return finder.shortAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.STRING_0 **/
+	public static StringAttribute<EvoType1DatedTxnTypes> stringAttribute()
+	{
+		return finder.stringAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.TIMESTAMP_0 **/
+	public static TimestampAttribute<EvoType1DatedTxnTypes> timestampAttribute()
+	{
+		return finder.timestampAttribute();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.FROM_Z **/
+	public static TimestampAttribute<EvoType1DatedTxnTypes> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.THRU_Z **/
+	public static TimestampAttribute<EvoType1DatedTxnTypes> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.IN_Z **/
+	public static TimestampAttribute<EvoType1DatedTxnTypes> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to EVO_TYPE1_DATED_TXN_TYPES.OUT_Z **/
+	public static TimestampAttribute<EvoType1DatedTxnTypes> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static BooleanAttribute<EvoType1DatedTxnTypes> pkBooleanAttribute()
+	{
+		return finder.pkBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1DatedTxnTypes> pkByteAttribute()
+	{
+		return finder.pkByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1DatedTxnTypes> pkCharAttribute()
+	{
+		return finder.pkCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1DatedTxnTypes> pkDateAttribute()
+	{
+		return finder.pkDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1DatedTxnTypes> pkDoubleAttribute()
+	{
+		return finder.pkDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1DatedTxnTypes> pkFloatAttribute()
+	{
+		return finder.pkFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1DatedTxnTypes> pkIntAttribute()
+	{
+		return finder.pkIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1DatedTxnTypes> pkLongAttribute()
+	{
+		return finder.pkLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1DatedTxnTypes> pkShortAttribute()
+	{
+		return finder.pkShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1DatedTxnTypes> pkStringAttribute()
+	{
+		return finder.pkStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1DatedTxnTypes> pkTimestampAttribute()
+	{
+		return finder.pkTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1DatedTxnTypes> pkBigDecimalAttribute()
+	{
+		return finder.pkBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1DatedTxnTypes> rootEvoBooleanAttribute()
+	{
+		return finder.rootEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1DatedTxnTypes> rootEvoByteAttribute()
+	{
+		return finder.rootEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1DatedTxnTypes> rootEvoCharAttribute()
+	{
+		return finder.rootEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1DatedTxnTypes> rootEvoDateAttribute()
+	{
+		return finder.rootEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1DatedTxnTypes> rootEvoDoubleAttribute()
+	{
+		return finder.rootEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1DatedTxnTypes> rootEvoFloatAttribute()
+	{
+		return finder.rootEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1DatedTxnTypes> rootEvoIntAttribute()
+	{
+		return finder.rootEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1DatedTxnTypes> rootEvoLongAttribute()
+	{
+		return finder.rootEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1DatedTxnTypes> rootEvoShortAttribute()
+	{
+		return finder.rootEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1DatedTxnTypes> rootEvoStringAttribute()
+	{
+		return finder.rootEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1DatedTxnTypes> rootEvoTimestampAttribute()
+	{
+		return finder.rootEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1DatedTxnTypes> rootEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1DatedTxnTypes> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	}
+
+	public static AsOfAttribute<EvoType1DatedTxnTypes> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<EvoType1DatedTxnTypes> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType1DatedTxnTypes, Order, EvoType1DatedTxnTypes> rootEvoOrder()
+	{
+		return finder.rootEvoOrder();
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1DatedTxnTypes>
+	{
+		public EvoType1DatedTxnTypesRootEvoOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1DatedTxnTypesRootEvoOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(EvoType1DatedTxnTypes _obj)
+		{
+			return _obj.getRootEvoOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1DatedTxnTypesList)_obj).getRootEvoOrders();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType1DatedTxnTypes, Order, EvoType1DatedTxnTypes> rootEvoOrderWithDate(Timestamp date)
+	{
+		return finder.rootEvoOrderWithDate(date);
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1DatedTxnTypes>
+	{
+		private Timestamp date;
+		public EvoType1DatedTxnTypesRootEvoOrderWithDateFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp date)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.date = date;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrderWithDate";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1DatedTxnTypesRootEvoOrderWithDateFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.date
+			);
+		}
+
+		protected Order plainValueOf(EvoType1DatedTxnTypes _obj)
+		{
+			return _obj.getRootEvoOrderWithDate(date);
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1DatedTxnTypesList)_obj).getRootEvoOrderWithDates(date);
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType1DatedTxnTypes, OrderStatus, EvoType1DatedTxnTypes> rootEvoNestedEvoOrderStatus()
+	{
+		return finder.rootEvoNestedEvoOrderStatus();
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1DatedTxnTypes>
+	{
+		public EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType1DatedTxnTypes _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatus();
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1DatedTxnTypesList)_obj).getRootEvoNestedEvoOrderStatus();
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType1DatedTxnTypes, OrderStatus, EvoType1DatedTxnTypes> rootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+	}
+
+	public static class EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1DatedTxnTypes>
+	{
+		private int status;
+		public EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int status)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.status = status;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatusWithStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1DatedTxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.status
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType1DatedTxnTypes _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1DatedTxnTypesList)_obj).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+	}
+
+	public static Operation eq(EvoType1DatedTxnTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(pkBooleanAttribute());
+	}
+
+	public static EvoType1DatedTxnTypesSingleFinder<EvoType1DatedTxnTypes, Object, EvoType1DatedTxnTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			booleanAttribute()
+			, pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			rootEvoIntAttribute()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			rootEvoNestedEvoIntAttribute()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[5];
+		result[0] = doubleAttribute();
+		result[1] = pkDoubleAttribute();
+		result[2] = rootEvoDoubleAttribute();
+		result[3] = rootEvoNestedEvoDoubleAttribute();
+		result[4] = rootEvoNestedEvoLeafEvoDoubleAttribute();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[4];
+		result[0] = pkBigDecimalAttribute();
+		result[1] = rootEvoBigDecimalAttribute();
+		result[2] = rootEvoNestedEvoBigDecimalAttribute();
+		result[3] = rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1DatedTxnTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,681 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class EvoType1DatedTxnTypesListAbstract extends DelegatingList<EvoType1DatedTxnTypes> implements MithraDatedTransactionalList<EvoType1DatedTxnTypes>
+{
+	public EvoType1DatedTxnTypesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public EvoType1DatedTxnTypesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public EvoType1DatedTxnTypesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public EvoType1DatedTxnTypesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public EvoType1DatedTxnTypes[] elements()
+	{
+		EvoType1DatedTxnTypes[] result = new EvoType1DatedTxnTypes[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public EvoType1DatedTxnTypesList intersection(EvoType1DatedTxnTypesList another)
+	{
+		return (EvoType1DatedTxnTypesList)super.intersection(another);
+	}
+
+	public EvoType1DatedTxnTypes getEvoType1DatedTxnTypesAt(int index)
+	{
+		return (EvoType1DatedTxnTypes)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public OrderList getRootEvoOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType1DatedTxnTypesFinder.rootEvoOrder());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public OrderList getRootEvoOrderWithDates(Timestamp date)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType1DatedTxnTypesFinder.rootEvoOrderWithDate(date));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatus()
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoOrderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoOrderStatusWithStatus(status));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EvoType1DatedTxnTypesFinder.getMithraObjectPortal();
+	}
+
+	public EvoType1DatedTxnTypesList getNonPersistentCopy()
+	{
+		EvoType1DatedTxnTypesList result = new EvoType1DatedTxnTypesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public EvoType1DatedTxnTypesList asAdhoc()
+	{
+		return (EvoType1DatedTxnTypesList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<EvoType1DatedTxnTypes> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public EvoType1DatedTxnTypesList merge(MithraTransactionalList<EvoType1DatedTxnTypes> incoming, TopLevelMergeOptions<EvoType1DatedTxnTypes> mergeOptions)
+	{
+		return (EvoType1DatedTxnTypesList) super.merge(incoming, mergeOptions);
+	}
+
+	public EvoType1DatedTxnTypesList getDetachedCopy()
+	{
+		EvoType1DatedTxnTypesList result = new EvoType1DatedTxnTypesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.booleanAttribute(), newValue);
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.byteAttribute(), newValue);
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.charAttribute(), newValue);
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.dateAttribute(), newValue);
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.doubleAttribute(), newValue);
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.floatAttribute(), newValue);
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.intAttribute(), newValue);
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.longAttribute(), newValue);
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.shortAttribute(), newValue);
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		zSetString(EvoType1DatedTxnTypesFinder.stringAttribute(), newValue);
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.timestampAttribute(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.processingDateTo(), newValue);
+	}
+
+	public void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.pkBooleanAttribute(), newValue);
+	}
+
+	public void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.pkByteAttribute(), newValue);
+	}
+
+	public void setPkCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.pkCharAttribute(), newValue);
+	}
+
+	public void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.pkDateAttribute(), newValue);
+	}
+
+	public void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.pkDoubleAttribute(), newValue);
+	}
+
+	public void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.pkFloatAttribute(), newValue);
+	}
+
+	public void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.pkIntAttribute(), newValue);
+	}
+
+	public void setPkLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.pkLongAttribute(), newValue);
+	}
+
+	public void setPkShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.pkShortAttribute(), newValue);
+	}
+
+	public void setPkStringAttribute(String newValue)
+	{
+		zSetString(EvoType1DatedTxnTypesFinder.pkStringAttribute(), newValue);
+	}
+
+	public void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.pkTimestampAttribute(), newValue);
+	}
+
+	public void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.rootEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType1DatedTxnTypesFinder.rootEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.rootEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void copyPk(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType1DatedTxnTypesFinder.pk(), newValue);
+	}
+
+	public void copyRootEvo(EvoTypesRoot newValue)
+	{
+		zSetEvoValue(EvoType1DatedTxnTypesFinder.rootEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvo(EvoTypesNested newValue)
+	{
+		zSetEvoValue(EvoType1DatedTxnTypesFinder.rootEvoNestedEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvo(), newValue);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.booleanAttribute());
+	}
+
+	public void setByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.byteAttribute());
+	}
+
+	public void setCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.charAttribute());
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.doubleAttribute());
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.floatAttribute());
+	}
+
+	public void setIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.intAttribute());
+	}
+
+	public void setLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.longAttribute());
+	}
+
+	public void setShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.shortAttribute());
+	}
+
+	public void setRootEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute());
+	}
+
+	public void setRootEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoByteAttribute());
+	}
+
+	public void setRootEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoCharAttribute());
+	}
+
+	public void setRootEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute());
+	}
+
+	public void setRootEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute());
+	}
+
+	public void setRootEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoIntAttribute());
+	}
+
+	public void setRootEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoLongAttribute());
+	}
+
+	public void setRootEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
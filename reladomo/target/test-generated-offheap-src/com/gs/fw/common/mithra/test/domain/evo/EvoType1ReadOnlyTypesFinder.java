@@ -0,0 +1,5300 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EvoType1ReadOnlyTypesFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/evo/EvoType1ReadOnlyTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.evo.EvoType1ReadOnlyTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1ReadOnlyTypes");
+	private static final EvoType1ReadOnlyTypesSingleFinder<EvoType1ReadOnlyTypes, Object, EvoType1ReadOnlyTypes> finder = new EvoType1ReadOnlyTypesSingleFinder<EvoType1ReadOnlyTypes, Object, EvoType1ReadOnlyTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(EvoType1ReadOnlyTypesFinder.EvoType1ReadOnlyTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("booleanAttribute");
+		finderMethodMap.addNormalAttributeName("byteAttribute");
+		finderMethodMap.addNormalAttributeName("charAttribute");
+		finderMethodMap.addNormalAttributeName("dateAttribute");
+		finderMethodMap.addNormalAttributeName("doubleAttribute");
+		finderMethodMap.addNormalAttributeName("floatAttribute");
+		finderMethodMap.addNormalAttributeName("intAttribute");
+		finderMethodMap.addNormalAttributeName("longAttribute");
+		finderMethodMap.addNormalAttributeName("shortAttribute");
+		finderMethodMap.addNormalAttributeName("stringAttribute");
+		finderMethodMap.addNormalAttributeName("timestampAttribute");
+		finderMethodMap.addNormalAttributeName("pkBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("pkByteAttribute");
+		finderMethodMap.addNormalAttributeName("pkCharAttribute");
+		finderMethodMap.addNormalAttributeName("pkDateAttribute");
+		finderMethodMap.addNormalAttributeName("pkDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("pkFloatAttribute");
+		finderMethodMap.addNormalAttributeName("pkIntAttribute");
+		finderMethodMap.addNormalAttributeName("pkLongAttribute");
+		finderMethodMap.addNormalAttributeName("pkShortAttribute");
+		finderMethodMap.addNormalAttributeName("pkStringAttribute");
+		finderMethodMap.addNormalAttributeName("pkTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("pkBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBigDecimalAttribute");
+		finderMethodMap.addRelationshipName("rootEvoOrder");
+		finderMethodMap.addRelationshipName("rootEvoNestedEvoOrderStatus");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = EvoType1ReadOnlyTypesFinder.rootEvoIntAttribute().constructEqualityMapper(OrderFinder.orderId());
+			result[1] = OrderFinder.orderId().constructEqualityMapper(EvoType1ReadOnlyTypesFinder.rootEvoIntAttribute());
+			result[2] = EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoIntAttribute().constructEqualityMapper(OrderStatusFinder.orderId());
+			result[3] = OrderStatusFinder.orderId().constructEqualityMapper(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoIntAttribute());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static EvoType1ReadOnlyTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static EvoType1ReadOnlyTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static EvoType1ReadOnlyTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1ReadOnlyTypesList) finder.findMany(operation);
+	}
+
+	public static EvoType1ReadOnlyTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1ReadOnlyTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static EvoType1ReadOnlyTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (EvoType1ReadOnlyTypes) FinderUtils.findOne(found);
+	}
+
+	public static EvoType1ReadOnlyTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute)
+	{
+		return finder.findByPrimaryKey(pkBooleanAttribute, pkByteAttribute, pkCharAttribute, pkDateAttribute, pkDoubleAttribute, pkFloatAttribute, pkIntAttribute, pkLongAttribute, pkShortAttribute, pkStringAttribute, pkTimestampAttribute, pkBigDecimalAttribute);
+	}
+
+	public static EvoType1ReadOnlyTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (EvoType1ReadOnlyTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class EvoType1ReadOnlyTypesPkAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType1ReadOnlyTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1ReadOnlyTypesPkAttribute(EvoType1ReadOnlyTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1ReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1ReadOnlyTypes) o).getPk();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1ReadOnlyTypes) o).copyPk(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesLeafValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.pkBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.pkByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.pkCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.pkDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.pkDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.pkFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.pkIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.pkLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.pkShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.pkStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.pkTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.pkBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.pk();
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoAttribute extends EvoTypesRoot.ManagedEvoTypesRootAttribute
+	{
+		private final EvoType1ReadOnlyTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, Order> order;
+		public EvoType1ReadOnlyTypesRootEvoAttribute(EvoType1ReadOnlyTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.order = new EvoType1ReadOnlyTypesRootEvoAttributeOrderExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1ReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesRoot.class;
+		}
+
+		public EvoTypesRoot evoTypesRootValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1ReadOnlyTypes) o).getRootEvo();
+		}
+
+		public void setEvoTypesRootValue(Object o, EvoTypesRoot newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1ReadOnlyTypes) o).copyRootEvo(newValue);
+		}
+
+		public void setEvoTypesRootValueUntil(Object o, EvoTypesRoot newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesRootValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoBigDecimalAttribute();
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses order()
+		{
+			return this.finder.rootEvoOrder();
+		}
+
+		public Extractor<Object, Order> zOrderExtractor()
+		{
+			return this.order;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses orderWithDate(Timestamp date)
+		{
+			return this.finder.rootEvoOrderWithDate(date);
+		}
+
+		public Extractor<Object, Order> zOrderWithDateExtractor(Timestamp date)
+		{
+			return new EvoType1ReadOnlyTypesRootEvoAttributeOrderWithDateExtractor(this.parentSelector, date);
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute nestedEvo()
+		{
+			return this.finder.rootEvoNestedEvo();
+		}
+
+		protected EvoTypesRoot.ManagedEvoTypesRootAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo();
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoAttributeOrderExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1ReadOnlyTypesRootEvoAttributeOrderExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoOrder();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType1ReadOnlyTypes) o).setRootEvoOrder((Order) o);
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoAttributeOrderWithDateExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private Timestamp date;
+		public EvoType1ReadOnlyTypesRootEvoAttributeOrderWithDateExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , Timestamp date)
+		{
+			this.parentSelector = parentSelector;
+			this.date = date;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoOrderWithDate(date);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoNestedEvoAttribute extends EvoTypesNested.ManagedEvoTypesNestedAttribute
+	{
+		private final EvoType1ReadOnlyTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, OrderStatus> orderStatus;
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoAttribute(EvoType1ReadOnlyTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.orderStatus = new EvoType1ReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1ReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesNested.class;
+		}
+
+		public EvoTypesNested evoTypesNestedValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvo();
+		}
+
+		public void setEvoTypesNestedValue(Object o, EvoTypesNested newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1ReadOnlyTypes) o).copyRootEvoNestedEvo(newValue);
+		}
+
+		public void setEvoTypesNestedValueUntil(Object o, EvoTypesNested newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesNestedValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatus()
+		{
+			return this.finder.rootEvoNestedEvoOrderStatus();
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusExtractor()
+		{
+			return this.orderStatus;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatusWithStatus(int status)
+		{
+			return this.finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusWithStatusExtractor(int status)
+		{
+			return new EvoType1ReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(this.parentSelector, status);
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute leafEvo()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvo();
+		}
+
+		protected EvoTypesNested.ManagedEvoTypesNestedAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo();
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoOrderStatus();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoOrderStatus((OrderStatus) o);
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private int status;
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , int status)
+		{
+			this.parentSelector = parentSelector;
+			this.status = status;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType1ReadOnlyTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoAttribute(EvoType1ReadOnlyTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1ReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvo();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1ReadOnlyTypes) o).copyRootEvoNestedEvoLeafEvo(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesLeafValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo().leafEvo();
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1ReadOnlyTypesPkBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_PK","","pkBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isPkBooleanAttribute();
+			return ((EvoType1ReadOnlyTypes) o).isPkBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1ReadOnlyTypesPkByteAttributeAttribute()
+		{
+			super("BYTE_PK","","pkByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkByteAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1ReadOnlyTypesPkCharAttributeAttribute()
+		{
+			super("CHAR_PK","","pkCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkCharAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1ReadOnlyTypesPkDateAttributeAttribute()
+		{
+			super("DATE_PK","","pkDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkDateAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1ReadOnlyTypesPkDoubleAttributeAttribute()
+		{
+			super("DOUBLE_PK","","pkDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkDoubleAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1ReadOnlyTypesPkFloatAttributeAttribute()
+		{
+			super("FLOAT_PK","","pkFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkFloatAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1ReadOnlyTypesPkIntAttributeAttribute()
+		{
+			super("INT_PK","","pkIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkIntAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1ReadOnlyTypesPkLongAttributeAttribute()
+		{
+			super("LONG_PK","","pkLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkLongAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1ReadOnlyTypesPkShortAttributeAttribute()
+		{
+			super("SHORT_PK","","pkShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkShortAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1ReadOnlyTypesPkStringAttributeAttribute()
+		{
+			super("STRING_PK","","pkStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkStringAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1ReadOnlyTypesPkTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_PK","","pkTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkTimestampAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesPkBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1ReadOnlyTypesPkBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_PK","","pkBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,false,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getPkBigDecimalAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getPkBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setPkBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setPkBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_1","","rootEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoBooleanAttribute();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoBooleanAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoByteAttributeAttribute()
+		{
+			super("BYTE_1","","rootEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoByteAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoByteAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoCharAttributeAttribute()
+		{
+			super("CHAR_1","","rootEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoCharAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoCharAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoDateAttributeAttribute()
+		{
+			super("DATE_1","","rootEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoDateAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_1","","rootEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoDoubleAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoDoubleAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_1","","rootEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoFloatAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoFloatAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoIntAttributeAttribute()
+		{
+			super("INT_1","","rootEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoIntAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoIntAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoLongAttributeAttribute()
+		{
+			super("LONG_1","","rootEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoLongAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoLongAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoShortAttributeAttribute()
+		{
+			super("SHORT_1","","rootEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoShortAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoShortAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoStringAttributeAttribute()
+		{
+			super("STRING_1","","rootEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoStringAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_1","","rootEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoTimestampAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_1","","rootEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoBigDecimalAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_2","","rootEvoNestedEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoBooleanAttribute();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoBooleanAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoByteAttributeAttribute()
+		{
+			super("BYTE_2","","rootEvoNestedEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoByteAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoByteAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoCharAttributeAttribute()
+		{
+			super("CHAR_2","","rootEvoNestedEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoCharAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoCharAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoDateAttributeAttribute()
+		{
+			super("DATE_2","","rootEvoNestedEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoDateAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_2","","rootEvoNestedEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoDoubleAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoDoubleAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_2","","rootEvoNestedEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoFloatAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoFloatAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoIntAttributeAttribute()
+		{
+			super("INT_2","","rootEvoNestedEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoIntAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoIntAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLongAttributeAttribute()
+		{
+			super("LONG_2","","rootEvoNestedEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLongAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLongAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoShortAttributeAttribute()
+		{
+			super("SHORT_2","","rootEvoNestedEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoShortAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoShortAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoStringAttributeAttribute()
+		{
+			super("STRING_2","","rootEvoNestedEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoStringAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_2","","rootEvoNestedEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoTimestampAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_2","","rootEvoNestedEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoBigDecimalAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_3","","rootEvoNestedEvoLeafEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute()
+		{
+			super("BYTE_3","","rootEvoNestedEvoLeafEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute()
+		{
+			super("CHAR_3","","rootEvoNestedEvoLeafEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute()
+		{
+			super("DATE_3","","rootEvoNestedEvoLeafEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_3","","rootEvoNestedEvoLeafEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_3","","rootEvoNestedEvoLeafEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute()
+		{
+			super("INT_3","","rootEvoNestedEvoLeafEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute()
+		{
+			super("LONG_3","","rootEvoNestedEvoLeafEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute()
+		{
+			super("SHORT_3","","rootEvoNestedEvoLeafEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+			return ((EvoType1ReadOnlyTypes) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute()
+		{
+			super("STRING_3","","rootEvoNestedEvoLeafEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_3","","rootEvoNestedEvoLeafEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_3","","rootEvoNestedEvoLeafEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,false,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData) return ((EvoType1ReadOnlyTypesData) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return ((EvoType1ReadOnlyTypes) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1ReadOnlyTypesData)
+			{
+				((EvoType1ReadOnlyTypesData) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1ReadOnlyTypes) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<EvoType1ReadOnlyTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private BooleanAttribute<ParentOwnerType> booleanAttribute;
+		private ByteAttribute<ParentOwnerType> byteAttribute;
+		private CharAttribute<ParentOwnerType> charAttribute;
+		private DateAttribute<ParentOwnerType> dateAttribute;
+		private DoubleAttribute<ParentOwnerType> doubleAttribute;
+		private FloatAttribute<ParentOwnerType> floatAttribute;
+		private IntegerAttribute<ParentOwnerType> intAttribute;
+		private LongAttribute<ParentOwnerType> longAttribute;
+		private ShortAttribute<ParentOwnerType> shortAttribute;
+		private StringAttribute<ParentOwnerType> stringAttribute;
+		private TimestampAttribute<ParentOwnerType> timestampAttribute;
+		private BooleanAttribute<ParentOwnerType> pkBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> pkByteAttribute;
+		private CharAttribute<ParentOwnerType> pkCharAttribute;
+		private DateAttribute<ParentOwnerType> pkDateAttribute;
+		private DoubleAttribute<ParentOwnerType> pkDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> pkFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> pkIntAttribute;
+		private LongAttribute<ParentOwnerType> pkLongAttribute;
+		private ShortAttribute<ParentOwnerType> pkShortAttribute;
+		private StringAttribute<ParentOwnerType> pkStringAttribute;
+		private TimestampAttribute<ParentOwnerType> pkTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+		private EvoType1ReadOnlyTypesRootEvoOrderFinderSubclass<ParentOwnerType> rootEvoOrder;
+		private EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> rootEvoNestedEvoOrderStatus;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk;
+		private EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo;
+		private EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo;
+		public EvoType1ReadOnlyTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public EvoType1ReadOnlyTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.evo.EvoType1ReadOnlyTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return EvoType1ReadOnlyTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return EvoType1ReadOnlyTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return EvoType1ReadOnlyTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[59];
+			attributes[0] = this.booleanAttribute();
+			attributes[1] = this.byteAttribute();
+			attributes[2] = this.charAttribute();
+			attributes[3] = this.dateAttribute();
+			attributes[4] = this.doubleAttribute();
+			attributes[5] = this.floatAttribute();
+			attributes[6] = this.intAttribute();
+			attributes[7] = this.longAttribute();
+			attributes[8] = this.shortAttribute();
+			attributes[9] = this.stringAttribute();
+			attributes[10] = this.timestampAttribute();
+			attributes[11] = this.pkBooleanAttribute();
+			attributes[12] = this.pkByteAttribute();
+			attributes[13] = this.pkCharAttribute();
+			attributes[14] = this.pkDateAttribute();
+			attributes[15] = this.pkDoubleAttribute();
+			attributes[16] = this.pkFloatAttribute();
+			attributes[17] = this.pkIntAttribute();
+			attributes[18] = this.pkLongAttribute();
+			attributes[19] = this.pkShortAttribute();
+			attributes[20] = this.pkStringAttribute();
+			attributes[21] = this.pkTimestampAttribute();
+			attributes[22] = this.pkBigDecimalAttribute();
+			attributes[23] = this.rootEvoBooleanAttribute();
+			attributes[24] = this.rootEvoByteAttribute();
+			attributes[25] = this.rootEvoCharAttribute();
+			attributes[26] = this.rootEvoDateAttribute();
+			attributes[27] = this.rootEvoDoubleAttribute();
+			attributes[28] = this.rootEvoFloatAttribute();
+			attributes[29] = this.rootEvoIntAttribute();
+			attributes[30] = this.rootEvoLongAttribute();
+			attributes[31] = this.rootEvoShortAttribute();
+			attributes[32] = this.rootEvoStringAttribute();
+			attributes[33] = this.rootEvoTimestampAttribute();
+			attributes[34] = this.rootEvoBigDecimalAttribute();
+			attributes[35] = this.rootEvoNestedEvoBooleanAttribute();
+			attributes[36] = this.rootEvoNestedEvoByteAttribute();
+			attributes[37] = this.rootEvoNestedEvoCharAttribute();
+			attributes[38] = this.rootEvoNestedEvoDateAttribute();
+			attributes[39] = this.rootEvoNestedEvoDoubleAttribute();
+			attributes[40] = this.rootEvoNestedEvoFloatAttribute();
+			attributes[41] = this.rootEvoNestedEvoIntAttribute();
+			attributes[42] = this.rootEvoNestedEvoLongAttribute();
+			attributes[43] = this.rootEvoNestedEvoShortAttribute();
+			attributes[44] = this.rootEvoNestedEvoStringAttribute();
+			attributes[45] = this.rootEvoNestedEvoTimestampAttribute();
+			attributes[46] = this.rootEvoNestedEvoBigDecimalAttribute();
+			attributes[47] = this.rootEvoNestedEvoLeafEvoBooleanAttribute();
+			attributes[48] = this.rootEvoNestedEvoLeafEvoByteAttribute();
+			attributes[49] = this.rootEvoNestedEvoLeafEvoCharAttribute();
+			attributes[50] = this.rootEvoNestedEvoLeafEvoDateAttribute();
+			attributes[51] = this.rootEvoNestedEvoLeafEvoDoubleAttribute();
+			attributes[52] = this.rootEvoNestedEvoLeafEvoFloatAttribute();
+			attributes[53] = this.rootEvoNestedEvoLeafEvoIntAttribute();
+			attributes[54] = this.rootEvoNestedEvoLeafEvoLongAttribute();
+			attributes[55] = this.rootEvoNestedEvoLeafEvoShortAttribute();
+			attributes[56] = this.rootEvoNestedEvoLeafEvoStringAttribute();
+			attributes[57] = this.rootEvoNestedEvoLeafEvoTimestampAttribute();
+			attributes[58] = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.rootEvoOrder());
+				relatedFinders.add(this.rootEvoNestedEvoOrderStatus());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public EvoType1ReadOnlyTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1ReadOnlyTypesFinder.findOne(operation, false);
+		}
+
+		public EvoType1ReadOnlyTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1ReadOnlyTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends EvoType1ReadOnlyTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new EvoType1ReadOnlyTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends EvoType1ReadOnlyTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			EvoType1ReadOnlyTypesList result = (EvoType1ReadOnlyTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends EvoType1ReadOnlyTypes> constructEmptyList()
+		{
+			return new EvoType1ReadOnlyTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -299040579;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.pk;
+			if (result == null)
+			{
+				result = new EvoType1ReadOnlyTypesPkAttribute(this, this.zGetValueSelector());
+			}
+
+			this.pk = result;
+			return result;
+		}
+
+		public EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+		{
+			EvoTypesRoot.ManagedEvoTypesRootAttribute result = this.rootEvo;
+			if (result == null)
+			{
+				result = new EvoType1ReadOnlyTypesRootEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvo = result;
+			return result;
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+		{
+			EvoTypesNested.ManagedEvoTypesNestedAttribute result = this.rootEvoNestedEvo;
+			if (result == null)
+			{
+				result = new EvoType1ReadOnlyTypesRootEvoNestedEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvo = result;
+			return result;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.rootEvoNestedEvoLeafEvo;
+			if (result == null)
+			{
+				result = new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvoLeafEvo = result;
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOLEAN_0","","booleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(EvoType1ReadOnlyTypesFinder.booleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.booleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_0","","byteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedByteAttribute(EvoType1ReadOnlyTypesFinder.byteAttribute(), this.mapper, this.zGetValueSelector());
+				this.byteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.charAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_0","","charAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedCharAttribute(EvoType1ReadOnlyTypesFinder.charAttribute(), this.mapper, this.zGetValueSelector());
+				this.charAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> dateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.dateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATE_0","","dateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(EvoType1ReadOnlyTypesFinder.dateAttribute(), this.mapper, this.zGetValueSelector());
+				this.dateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_0","","doubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(EvoType1ReadOnlyTypesFinder.doubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.doubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_0","","floatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(EvoType1ReadOnlyTypesFinder.floatAttribute(), this.mapper, this.zGetValueSelector());
+				this.floatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_0","","intAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(EvoType1ReadOnlyTypesFinder.intAttribute(), this.mapper, this.zGetValueSelector());
+				this.intAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.longAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_0","","longAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(EvoType1ReadOnlyTypesFinder.longAttribute(), this.mapper, this.zGetValueSelector());
+				this.longAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_0","","shortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedShortAttribute(EvoType1ReadOnlyTypesFinder.shortAttribute(), this.mapper, this.zGetValueSelector());
+				this.shortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> stringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.stringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STRING_0","","stringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(EvoType1ReadOnlyTypesFinder.stringAttribute(), this.mapper, this.zGetValueSelector());
+				this.stringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> timestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.timestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TIMESTAMP_0","","timestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1ReadOnlyTypesFinder.timestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.timestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> pkBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.pkBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1ReadOnlyTypesFinder.pkBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> pkByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.pkByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1ReadOnlyTypesFinder.pkByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> pkCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.pkCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1ReadOnlyTypesFinder.pkCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> pkDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.pkDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1ReadOnlyTypesFinder.pkDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> pkDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.pkDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1ReadOnlyTypesFinder.pkDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> pkFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.pkFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1ReadOnlyTypesFinder.pkFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> pkIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.pkIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1ReadOnlyTypesFinder.pkIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> pkLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.pkLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1ReadOnlyTypesFinder.pkLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> pkShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.pkShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1ReadOnlyTypesFinder.pkShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> pkStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.pkStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1ReadOnlyTypesFinder.pkStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> pkTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.pkTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1ReadOnlyTypesFinder.pkTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.pkBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesPkBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1ReadOnlyTypesFinder.pkBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1ReadOnlyTypesFinder.rootEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1ReadOnlyTypesFinder.rootEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1ReadOnlyTypesFinder.rootEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1ReadOnlyTypesFinder.rootEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1ReadOnlyTypesFinder.rootEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1ReadOnlyTypesFinder.rootEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1ReadOnlyTypesFinder.rootEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1ReadOnlyTypesFinder.rootEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1ReadOnlyTypesFinder.rootEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1ReadOnlyTypesFinder.rootEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1ReadOnlyTypesFinder.rootEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1ReadOnlyTypesFinder.rootEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1ReadOnlyTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1ReadOnlyTypes> rootEvoOrder()
+		{
+			EvoType1ReadOnlyTypesRootEvoOrderFinderSubclass<ParentOwnerType> result = this.rootEvoOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType1ReadOnlyTypesFinder.zGetEvoType1ReadOnlyTypesRootEvoOrderReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType1ReadOnlyTypesRootEvoOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoOrder = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1ReadOnlyTypes> rootEvoOrderWithDate(Timestamp date)
+		{
+			EvoType1ReadOnlyTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType1ReadOnlyTypesFinder.zGetEvoType1ReadOnlyTypesRootEvoOrderWithDateReverseMapper(date));
+			newMapper.setToMany(false);
+			result = new EvoType1ReadOnlyTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,date);
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1ReadOnlyTypes> rootEvoNestedEvoOrderStatus()
+		{
+			EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> result = this.rootEvoNestedEvoOrderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType1ReadOnlyTypesFinder.zGetEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoNestedEvoOrderStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1ReadOnlyTypes> rootEvoNestedEvoOrderStatusWithStatus(int status)
+		{
+			EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType1ReadOnlyTypesFinder.zGetEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(status));
+			newMapper.setToMany(false);
+			result = new EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,status);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return EvoType1ReadOnlyTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return EvoType1ReadOnlyTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends EvoType1ReadOnlyTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1ReadOnlyTypesList, OwnerType>
+	{
+		public EvoType1ReadOnlyTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class EvoType1ReadOnlyTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends EvoType1ReadOnlyTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1ReadOnlyTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class EvoType1ReadOnlyTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends EvoType1ReadOnlyTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1ReadOnlyTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public EvoType1ReadOnlyTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public EvoType1ReadOnlyTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(EvoType1ReadOnlyTypes other)
+		{
+			return this.pkBooleanAttribute().eq(other.isPkBooleanAttribute())
+			.and(this.pkByteAttribute().eq(other.getPkByteAttribute()))
+			.and(this.pkCharAttribute().eq(other.getPkCharAttribute()))
+			.and(this.pkDateAttribute().eq(other.getPkDateAttribute()))
+			.and(this.pkDoubleAttribute().eq(other.getPkDoubleAttribute()))
+			.and(this.pkFloatAttribute().eq(other.getPkFloatAttribute()))
+			.and(this.pkIntAttribute().eq(other.getPkIntAttribute()))
+			.and(this.pkLongAttribute().eq(other.getPkLongAttribute()))
+			.and(this.pkShortAttribute().eq(other.getPkShortAttribute()))
+			.and(this.pkStringAttribute().eq(other.getPkStringAttribute()))
+			.and(this.pkTimestampAttribute().eq(other.getPkTimestampAttribute()))
+			.and(this.pkBigDecimalAttribute().eq(other.getPkBigDecimalAttribute()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public EvoType1ReadOnlyTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute)
+		{
+			EvoType1ReadOnlyTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (!(_related instanceof NulledRelation)) _result = (EvoType1ReadOnlyTypes) _related;
+			if (_related == null)
+			{
+				_op = this.pkBooleanAttribute().eq(pkBooleanAttribute).and(this.pkByteAttribute().eq(pkByteAttribute)).and(this.pkCharAttribute().eq(pkCharAttribute)).and(this.pkDateAttribute().eq(pkDateAttribute)).and(this.pkDoubleAttribute().eq(pkDoubleAttribute)).and(this.pkFloatAttribute().eq(pkFloatAttribute)).and(this.pkIntAttribute().eq(pkIntAttribute)).and(this.pkLongAttribute().eq(pkLongAttribute)).and(this.pkShortAttribute().eq(pkShortAttribute)).and(this.pkStringAttribute().eq(pkStringAttribute)).and(this.pkTimestampAttribute().eq(pkTimestampAttribute)).and(this.pkBigDecimalAttribute().eq(pkBigDecimalAttribute));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class EvoType1ReadOnlyTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends EvoType1ReadOnlyTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1ReadOnlyTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper rootEvoOrderReverseMapper = null;
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoOrderReverseMapper()
+	{
+		if (rootEvoOrderReverseMapper == null)
+		{
+			rootEvoOrderReverseMapper = zConstructEvoType1ReadOnlyTypesRootEvoOrderReverseMapper();
+		}
+
+		return rootEvoOrderReverseMapper;
+	}
+
+	private static Mapper rootEvoOrderMapper = null;
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoOrderMapper()
+	{
+		if (rootEvoOrderMapper == null)
+		{
+			rootEvoOrderMapper = zConstructEvoType1ReadOnlyTypesRootEvoOrderMapper();
+		}
+
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper rootEvoOrderPureReverseMapper = null;
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoOrderPureReverseMapper()
+	{
+		if (rootEvoOrderPureReverseMapper == null)
+		{
+			rootEvoOrderPureReverseMapper = zConstructEvoType1ReadOnlyTypesRootEvoOrderPureReverseMapper();
+		}
+
+		return rootEvoOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoOrderPureReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoOrderReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoOrderMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(1);
+		rootEvoOrderMapper.setName("rootEvoOrder_Reverse");
+		return rootEvoOrderMapper;
+	}
+
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		return zConstructEvoType1ReadOnlyTypesRootEvoOrderWithDateReverseMapper(date);
+	}
+
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoOrderWithDateMapper(Timestamp date)
+	{
+		return zConstructEvoType1ReadOnlyTypesRootEvoOrderWithDateMapper(date);
+	}
+
+	private static Mapper rootEvoOrderWithDatePureReverseMapper = null;
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoOrderWithDatePureReverseMapper()
+	{
+		if (rootEvoOrderWithDatePureReverseMapper == null)
+		{
+			rootEvoOrderWithDatePureReverseMapper = zConstructEvoType1ReadOnlyTypesRootEvoOrderWithDatePureReverseMapper();
+		}
+
+		return rootEvoOrderWithDatePureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoOrderWithDatePureReverseMapper()
+	{
+		Mapper rootEvoOrderWithDateMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(0);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, null, OrderFinder.orderDate().eq(date));
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoOrderWithDateMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(1);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, OrderFinder.orderDate().eq(date), null);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate_Reverse");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusReverseMapper = null;
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusReverseMapper = zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusReverseMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusMapper = null;
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusMapper = zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusPureReverseMapper = zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(3);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		return zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(status);
+	}
+
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		return zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusMapper(status);
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(2);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, null, OrderStatusFinder.status().eq(status));
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType1ReadOnlyTypesFinder.zGetConstantJoin(3);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, OrderStatusFinder.status().eq(status), null);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	public static EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+	{
+		return finder.pk();
+	}
+
+	public static EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+	{
+		return finder.rootEvo();
+	}
+
+	protected static EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+	{
+		return finder.rootEvoNestedEvo();
+	}
+
+	protected static EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+	{
+		return finder.rootEvoNestedEvoLeafEvo();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.BOOLEAN_0 **/
+	public static BooleanAttribute<EvoType1ReadOnlyTypes> booleanAttribute()
+	{
+		return finder.booleanAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.BYTE_0 **/
+	public static ByteAttribute<EvoType1ReadOnlyTypes> byteAttribute()
+	{
+		return finder.byteAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.CHAR_0 **/
+	public static CharAttribute<EvoType1ReadOnlyTypes> charAttribute()
+	{
+		return finder.charAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.DATE_0 **/
+	public static DateAttribute<EvoType1ReadOnlyTypes> dateAttribute()
+	{
+		return finder.dateAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.DOUBLE_0 **/
+	public static DoubleAttribute<EvoType1ReadOnlyTypes> doubleAttribute()
+	{
+		return finder.doubleAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.FLOAT_0 **/
+	public static FloatAttribute<EvoType1ReadOnlyTypes> floatAttribute()
+	{
+		return finder.floatAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.INT_0 **/
+	public static IntegerAttribute<EvoType1ReadOnlyTypes> intAttribute()
+	{
+		return finder.intAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.LONG_0 **/
+	public static LongAttribute<EvoType1ReadOnlyTypes> longAttribute()
+	{
+		return finder.longAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.SHORT_0 **/
+	public static ShortAttribute<EvoType1ReadOnlyTypes> shortAttribute()
+	{
+		return finder.shortAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.STRING_0 **/
+	public static StringAttribute<EvoType1ReadOnlyTypes> stringAttribute()
+	{
+		return finder.stringAttribute();
+	}
+
+	/** maps to EVO_TYPE1_READ_ONLY_TYPES.TIMESTAMP_0 **/
+	public static TimestampAttribute<EvoType1ReadOnlyTypes> timestampAttribute()
+	{
+		return finder.timestampAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1ReadOnlyTypes> pkBooleanAttribute()
+	{
+		return finder.pkBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1ReadOnlyTypes> pkByteAttribute()
+	{
+		return finder.pkByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1ReadOnlyTypes> pkCharAttribute()
+	{
+		return finder.pkCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1ReadOnlyTypes> pkDateAttribute()
+	{
+		return finder.pkDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1ReadOnlyTypes> pkDoubleAttribute()
+	{
+		return finder.pkDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1ReadOnlyTypes> pkFloatAttribute()
+	{
+		return finder.pkFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1ReadOnlyTypes> pkIntAttribute()
+	{
+		return finder.pkIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1ReadOnlyTypes> pkLongAttribute()
+	{
+		return finder.pkLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1ReadOnlyTypes> pkShortAttribute()
+	{
+		return finder.pkShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1ReadOnlyTypes> pkStringAttribute()
+	{
+		return finder.pkStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1ReadOnlyTypes> pkTimestampAttribute()
+	{
+		return finder.pkTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1ReadOnlyTypes> pkBigDecimalAttribute()
+	{
+		return finder.pkBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1ReadOnlyTypes> rootEvoBooleanAttribute()
+	{
+		return finder.rootEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1ReadOnlyTypes> rootEvoByteAttribute()
+	{
+		return finder.rootEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1ReadOnlyTypes> rootEvoCharAttribute()
+	{
+		return finder.rootEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1ReadOnlyTypes> rootEvoDateAttribute()
+	{
+		return finder.rootEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1ReadOnlyTypes> rootEvoDoubleAttribute()
+	{
+		return finder.rootEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1ReadOnlyTypes> rootEvoFloatAttribute()
+	{
+		return finder.rootEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1ReadOnlyTypes> rootEvoIntAttribute()
+	{
+		return finder.rootEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1ReadOnlyTypes> rootEvoLongAttribute()
+	{
+		return finder.rootEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1ReadOnlyTypes> rootEvoShortAttribute()
+	{
+		return finder.rootEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1ReadOnlyTypes> rootEvoStringAttribute()
+	{
+		return finder.rootEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1ReadOnlyTypes> rootEvoTimestampAttribute()
+	{
+		return finder.rootEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1ReadOnlyTypes> rootEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1ReadOnlyTypes> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType1ReadOnlyTypes, Order, EvoType1ReadOnlyTypes> rootEvoOrder()
+	{
+		return finder.rootEvoOrder();
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1ReadOnlyTypes>
+	{
+		public EvoType1ReadOnlyTypesRootEvoOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1ReadOnlyTypesRootEvoOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(EvoType1ReadOnlyTypes _obj)
+		{
+			return _obj.getRootEvoOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1ReadOnlyTypesList)_obj).getRootEvoOrders();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType1ReadOnlyTypes, Order, EvoType1ReadOnlyTypes> rootEvoOrderWithDate(Timestamp date)
+	{
+		return finder.rootEvoOrderWithDate(date);
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1ReadOnlyTypes>
+	{
+		private Timestamp date;
+		public EvoType1ReadOnlyTypesRootEvoOrderWithDateFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp date)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.date = date;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrderWithDate";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1ReadOnlyTypesRootEvoOrderWithDateFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.date
+			);
+		}
+
+		protected Order plainValueOf(EvoType1ReadOnlyTypes _obj)
+		{
+			return _obj.getRootEvoOrderWithDate(date);
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1ReadOnlyTypesList)_obj).getRootEvoOrderWithDates(date);
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType1ReadOnlyTypes, OrderStatus, EvoType1ReadOnlyTypes> rootEvoNestedEvoOrderStatus()
+	{
+		return finder.rootEvoNestedEvoOrderStatus();
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1ReadOnlyTypes>
+	{
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType1ReadOnlyTypes _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatus();
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1ReadOnlyTypesList)_obj).getRootEvoNestedEvoOrderStatus();
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType1ReadOnlyTypes, OrderStatus, EvoType1ReadOnlyTypes> rootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+	}
+
+	public static class EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1ReadOnlyTypes>
+	{
+		private int status;
+		public EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int status)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.status = status;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatusWithStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1ReadOnlyTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.status
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType1ReadOnlyTypes _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1ReadOnlyTypesList)_obj).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+	}
+
+	public static Operation eq(EvoType1ReadOnlyTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(pkBooleanAttribute());
+	}
+
+	public static EvoType1ReadOnlyTypesSingleFinder<EvoType1ReadOnlyTypes, Object, EvoType1ReadOnlyTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			booleanAttribute()
+			, pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			rootEvoIntAttribute()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			rootEvoNestedEvoIntAttribute()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[5];
+		result[0] = doubleAttribute();
+		result[1] = pkDoubleAttribute();
+		result[2] = rootEvoDoubleAttribute();
+		result[3] = rootEvoNestedEvoDoubleAttribute();
+		result[4] = rootEvoNestedEvoLeafEvoDoubleAttribute();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[4];
+		result[0] = pkBigDecimalAttribute();
+		result[1] = rootEvoBigDecimalAttribute();
+		result[2] = rootEvoNestedEvoBigDecimalAttribute();
+		result[3] = rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1ReadOnlyTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,159 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class EvoType1ReadOnlyTypesListAbstract extends DelegatingList<EvoType1ReadOnlyTypes> implements MithraList<EvoType1ReadOnlyTypes>
+{
+	public EvoType1ReadOnlyTypesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public EvoType1ReadOnlyTypesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public EvoType1ReadOnlyTypesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public EvoType1ReadOnlyTypesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public EvoType1ReadOnlyTypes[] elements()
+	{
+		EvoType1ReadOnlyTypes[] result = new EvoType1ReadOnlyTypes[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public EvoType1ReadOnlyTypesList intersection(EvoType1ReadOnlyTypesList another)
+	{
+		return (EvoType1ReadOnlyTypesList)super.intersection(another);
+	}
+
+	public EvoType1ReadOnlyTypes getEvoType1ReadOnlyTypesAt(int index)
+	{
+		return (EvoType1ReadOnlyTypes)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public OrderList getRootEvoOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType1ReadOnlyTypesFinder.rootEvoOrder());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public OrderList getRootEvoOrderWithDates(Timestamp date)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType1ReadOnlyTypesFinder.rootEvoOrderWithDate(date));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatus()
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoOrderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType1ReadOnlyTypesFinder.rootEvoNestedEvoOrderStatusWithStatus(status));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EvoType1ReadOnlyTypesFinder.getMithraObjectPortal();
+	}
+
+	public EvoType1ReadOnlyTypesList getNonPersistentCopy()
+	{
+		EvoType1ReadOnlyTypesList result = new EvoType1ReadOnlyTypesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public EvoType1ReadOnlyTypesList asAdhoc()
+	{
+		return (EvoType1ReadOnlyTypesList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<EvoType1ReadOnlyTypes> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
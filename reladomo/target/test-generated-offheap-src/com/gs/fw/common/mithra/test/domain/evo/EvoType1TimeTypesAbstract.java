@@ -0,0 +1,1580 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class EvoType1TimeTypesAbstract extends com.gs.fw.common.mithra.test.domain.evo.EvoTypeTime implements MithraTransactionalObject, Serializable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(EvoType1TimeTypes.class.getName());
+	public EvoType1TimeTypesAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public EvoType1TimeTypes getDetachedCopy() throws MithraBusinessException
+	{
+		return (EvoType1TimeTypes) super.getDetachedCopy();
+	}
+
+	public EvoType1TimeTypes getNonPersistentCopy() throws MithraBusinessException
+	{
+		EvoType1TimeTypes result = (EvoType1TimeTypes) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public EvoType1TimeTypes copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (EvoType1TimeTypes) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public EvoType1TimeTypes zFindOriginal()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.currentData;
+		Operation op;
+		op = EvoType1TimeTypesFinder.pkBooleanAttribute().eq(data.isPkBooleanAttribute());
+		op = op.and(EvoType1TimeTypesFinder.pkByteAttribute().eq(data.getPkByteAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkCharAttribute().eq(data.getPkCharAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkDateAttribute().eq(data.getPkDateAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkTimeAttribute().eq(data.getPkTimeAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkDoubleAttribute().eq(data.getPkDoubleAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkFloatAttribute().eq(data.getPkFloatAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkIntAttribute().eq(data.getPkIntAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkLongAttribute().eq(data.getPkLongAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkShortAttribute().eq(data.getPkShortAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkStringAttribute().eq(data.getPkStringAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkTimestampAttribute().eq(data.getPkTimestampAttribute()));
+		op = op.and(EvoType1TimeTypesFinder.pkBigDecimalAttribute().eq(data.getPkBigDecimalAttribute()));
+		return EvoType1TimeTypesFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new EvoType1TimeTypesData();
+	}
+
+	protected void zSetFromEvoType1TimeTypesData( EvoType1TimeTypesData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromEvoType1TimeTypesData( EvoType1TimeTypesData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isBooleanAttributeNull();
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("booleanAttribute", data);
+		return data.isBooleanAttribute();
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TimeTypesFinder.booleanAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isByteAttributeNull();
+	}
+
+	public byte getByteAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isByteAttributeNull()) MithraNullPrimitiveException.throwNew("byteAttribute", data);
+		return data.getByteAttribute();
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TimeTypesFinder.byteAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isCharAttributeNull();
+	}
+
+	public char getCharAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isCharAttributeNull()) MithraNullPrimitiveException.throwNew("charAttribute", data);
+		return data.getCharAttribute();
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TimeTypesFinder.charAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isDateAttributeNull();
+	}
+
+	public Date getDateAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getDateAttribute();
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TimeTypesFinder.dateAttribute(), newValue, false, false );
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isDoubleAttributeNull();
+	}
+
+	public double getDoubleAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("doubleAttribute", data);
+		return data.getDoubleAttribute();
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TimeTypesFinder.doubleAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isFloatAttributeNull();
+	}
+
+	public float getFloatAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isFloatAttributeNull()) MithraNullPrimitiveException.throwNew("floatAttribute", data);
+		return data.getFloatAttribute();
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TimeTypesFinder.floatAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isIntAttributeNull();
+	}
+
+	public int getIntAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isIntAttributeNull()) MithraNullPrimitiveException.throwNew("intAttribute", data);
+		return data.getIntAttribute();
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TimeTypesFinder.intAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isLongAttributeNull();
+	}
+
+	public long getLongAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isLongAttributeNull()) MithraNullPrimitiveException.throwNew("longAttribute", data);
+		return data.getLongAttribute();
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TimeTypesFinder.longAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isPkBigDecimalAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getPkBigDecimalAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkBigDecimalAttribute();
+	}
+
+	protected void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1TimeTypesFinder.pkBigDecimalAttribute(), newValue, true, false );
+	}
+
+	protected boolean isPkBooleanAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkBooleanAttributeNull();
+	}
+
+	protected boolean isPkBooleanAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.isPkBooleanAttribute();
+	}
+
+	protected void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TimeTypesFinder.pkBooleanAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkByteAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkByteAttributeNull();
+	}
+
+	protected byte getPkByteAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkByteAttribute();
+	}
+
+	protected void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TimeTypesFinder.pkByteAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkCharAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkCharAttributeNull();
+	}
+
+	protected char getPkCharAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkCharAttribute();
+	}
+
+	protected void setPkCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TimeTypesFinder.pkCharAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkDateAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkDateAttributeNull();
+	}
+
+	protected Date getPkDateAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkDateAttribute();
+	}
+
+	protected void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TimeTypesFinder.pkDateAttribute(), newValue, true, false );
+	}
+
+	protected boolean isPkDoubleAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkDoubleAttributeNull();
+	}
+
+	protected double getPkDoubleAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkDoubleAttribute();
+	}
+
+	protected void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TimeTypesFinder.pkDoubleAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkFloatAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkFloatAttributeNull();
+	}
+
+	protected float getPkFloatAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkFloatAttribute();
+	}
+
+	protected void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TimeTypesFinder.pkFloatAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkIntAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkIntAttributeNull();
+	}
+
+	protected int getPkIntAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkIntAttribute();
+	}
+
+	protected void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TimeTypesFinder.pkIntAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkLongAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkLongAttributeNull();
+	}
+
+	protected long getPkLongAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkLongAttribute();
+	}
+
+	protected void setPkLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TimeTypesFinder.pkLongAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkShortAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkShortAttributeNull();
+	}
+
+	protected short getPkShortAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkShortAttribute();
+	}
+
+	protected void setPkShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TimeTypesFinder.pkShortAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkStringAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkStringAttributeNull();
+	}
+
+	protected String getPkStringAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkStringAttribute();
+	}
+
+	protected void setPkStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(EvoType1TimeTypesFinder.pkStringAttribute(), newValue, true, false );
+	}
+
+	protected boolean isPkTimeAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkTimeAttributeNull();
+	}
+
+	protected Time getPkTimeAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkTimeAttribute();
+	}
+
+	protected void setPkTimeAttribute(Time newValue)
+	{
+		zSetTime(EvoType1TimeTypesFinder.pkTimeAttribute(), newValue, true, false );
+	}
+
+	protected boolean isPkTimestampAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isPkTimestampAttributeNull();
+	}
+
+	protected Timestamp getPkTimestampAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getPkTimestampAttribute();
+	}
+
+	protected void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TimeTypesFinder.pkTimestampAttribute(), newValue, true, false );
+	}
+
+	protected boolean isRootEvoBigDecimalAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getRootEvoBigDecimalAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getRootEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1TimeTypesFinder.rootEvoBigDecimalAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoBooleanAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoBooleanAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isRootEvoBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoBooleanAttribute", data);
+		return data.isRootEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TimeTypesFinder.rootEvoBooleanAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoByteAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoByteAttributeNull();
+	}
+
+	protected byte getRootEvoByteAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isRootEvoByteAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoByteAttribute", data);
+		return data.getRootEvoByteAttribute();
+	}
+
+	protected void setRootEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TimeTypesFinder.rootEvoByteAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoCharAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoCharAttributeNull();
+	}
+
+	protected char getRootEvoCharAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isRootEvoCharAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoCharAttribute", data);
+		return data.getRootEvoCharAttribute();
+	}
+
+	protected void setRootEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TimeTypesFinder.rootEvoCharAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoDateAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoDateAttributeNull();
+	}
+
+	protected Date getRootEvoDateAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getRootEvoDateAttribute();
+	}
+
+	protected void setRootEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TimeTypesFinder.rootEvoDateAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoDoubleAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoDoubleAttributeNull();
+	}
+
+	protected double getRootEvoDoubleAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isRootEvoDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoDoubleAttribute", data);
+		return data.getRootEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TimeTypesFinder.rootEvoDoubleAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoFloatAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoFloatAttributeNull();
+	}
+
+	protected float getRootEvoFloatAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isRootEvoFloatAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoFloatAttribute", data);
+		return data.getRootEvoFloatAttribute();
+	}
+
+	protected void setRootEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TimeTypesFinder.rootEvoFloatAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoIntAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoIntAttributeNull();
+	}
+
+	protected int getRootEvoIntAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isRootEvoIntAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoIntAttribute", data);
+		return data.getRootEvoIntAttribute();
+	}
+
+	protected void setRootEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TimeTypesFinder.rootEvoIntAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoLongAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoLongAttributeNull();
+	}
+
+	protected long getRootEvoLongAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isRootEvoLongAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoLongAttribute", data);
+		return data.getRootEvoLongAttribute();
+	}
+
+	protected void setRootEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TimeTypesFinder.rootEvoLongAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoShortAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoShortAttributeNull();
+	}
+
+	protected short getRootEvoShortAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isRootEvoShortAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoShortAttribute", data);
+		return data.getRootEvoShortAttribute();
+	}
+
+	protected void setRootEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TimeTypesFinder.rootEvoShortAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoStringAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoStringAttributeNull();
+	}
+
+	protected String getRootEvoStringAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getRootEvoStringAttribute();
+	}
+
+	protected void setRootEvoStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(EvoType1TimeTypesFinder.rootEvoStringAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoTimeAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoTimeAttributeNull();
+	}
+
+	protected Time getRootEvoTimeAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getRootEvoTimeAttribute();
+	}
+
+	protected void setRootEvoTimeAttribute(Time newValue)
+	{
+		zSetTime(EvoType1TimeTypesFinder.rootEvoTimeAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoTimestampAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isRootEvoTimestampAttributeNull();
+	}
+
+	protected Timestamp getRootEvoTimestampAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getRootEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TimeTypesFinder.rootEvoTimestampAttribute(), newValue, false, false );
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isShortAttributeNull();
+	}
+
+	public short getShortAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		if (data.isShortAttributeNull()) MithraNullPrimitiveException.throwNew("shortAttribute", data);
+		return data.getShortAttribute();
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TimeTypesFinder.shortAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isStringAttributeNull();
+	}
+
+	public String getStringAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getStringAttribute();
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'stringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(EvoType1TimeTypesFinder.stringAttribute(), newValue, false, false );
+	}
+
+	public boolean isTimeAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isTimeAttributeNull();
+	}
+
+	public Time getTimeAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getTimeAttribute();
+	}
+
+	public void setTimeAttribute(Time newValue)
+	{
+		zSetTime(EvoType1TimeTypesFinder.timeAttribute(), newValue, false, false );
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return ((EvoType1TimeTypesData) this.zSynchronizedGetData()).isTimestampAttributeNull();
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		return data.getTimestampAttribute();
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TimeTypesFinder.timestampAttribute(), newValue, false, false );
+	}
+
+	public EvoTypesTime getPk()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		EvoTypesTime evo = data.getPk();
+		if (evo == null)
+		{
+			evo = EvoTypesTime.managedInstance(this, EvoType1TimeTypesFinder.pk());
+			data.setPk(evo);
+		}
+
+		return evo;
+	}
+
+	public void copyPk(EvoTypesTime pk)
+	{
+		boolean pkBooleanAttribute = pk.getBooleanAttribute();
+		boolean isPkBooleanAttributeNull = pk.isBooleanAttributeNull();
+		byte pkByteAttribute = pk.getByteAttribute();
+		boolean isPkByteAttributeNull = pk.isByteAttributeNull();
+		char pkCharAttribute = pk.getCharAttribute();
+		boolean isPkCharAttributeNull = pk.isCharAttributeNull();
+		Date pkDateAttribute = pk.getDateAttribute();
+		Time pkTimeAttribute = pk.getTimeAttribute();
+		double pkDoubleAttribute = pk.getDoubleAttribute();
+		boolean isPkDoubleAttributeNull = pk.isDoubleAttributeNull();
+		zCheckDoubleValue(pkDoubleAttribute);
+		float pkFloatAttribute = pk.getFloatAttribute();
+		boolean isPkFloatAttributeNull = pk.isFloatAttributeNull();
+		zCheckFloatValue(pkFloatAttribute);
+		int pkIntAttribute = pk.getIntAttribute();
+		boolean isPkIntAttributeNull = pk.isIntAttributeNull();
+		long pkLongAttribute = pk.getLongAttribute();
+		boolean isPkLongAttributeNull = pk.isLongAttributeNull();
+		short pkShortAttribute = pk.getShortAttribute();
+		boolean isPkShortAttributeNull = pk.isShortAttributeNull();
+		String pkStringAttribute = pk.getStringAttribute();
+		if (pkStringAttribute != null) pkStringAttribute = pkStringAttribute.trim();
+		if (pkStringAttribute != null && pkStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + pkStringAttribute);
+		Timestamp pkTimestampAttribute = pk.getTimestampAttribute();
+		BigDecimal pkBigDecimalAttribute = pk.getBigDecimalAttribute();
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		try
+		{
+			EvoType1TimeTypesData data = null;
+			boolean dataChanged = false;
+			AttributeUpdateWrapper updateWrapper;
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.isPkBooleanAttribute() != pkBooleanAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BooleanUpdateWrapper(
+					EvoType1TimeTypesFinder.pkBooleanAttribute(),
+					data,
+					pkBooleanAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkByteAttribute() != pkByteAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ByteUpdateWrapper(
+					EvoType1TimeTypesFinder.pkByteAttribute(),
+					data,
+					pkByteAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkCharAttribute() != pkCharAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new CharUpdateWrapper(
+					EvoType1TimeTypesFinder.pkCharAttribute(),
+					data,
+					pkCharAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getPkDateAttribute() == null)
+			{
+				dataChanged = pkDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkDateAttribute().equals(pkDateAttribute);
+			}
+
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DateUpdateWrapper(
+					EvoType1TimeTypesFinder.pkDateAttribute(),
+					data,
+					pkDateAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getPkTimeAttribute() == null)
+			{
+				dataChanged = pkTimeAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkTimeAttribute().equals(pkTimeAttribute);
+			}
+
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimeUpdateWrapper(
+					EvoType1TimeTypesFinder.pkTimeAttribute(),
+					data,
+					pkTimeAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkDoubleAttribute() != pkDoubleAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DoubleUpdateWrapper(
+					EvoType1TimeTypesFinder.pkDoubleAttribute(),
+					data,
+					pkDoubleAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkFloatAttribute() != pkFloatAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new FloatUpdateWrapper(
+					EvoType1TimeTypesFinder.pkFloatAttribute(),
+					data,
+					pkFloatAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkIntAttribute() != pkIntAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new IntegerUpdateWrapper(
+					EvoType1TimeTypesFinder.pkIntAttribute(),
+					data,
+					pkIntAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkLongAttribute() != pkLongAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new LongUpdateWrapper(
+					EvoType1TimeTypesFinder.pkLongAttribute(),
+					data,
+					pkLongAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkShortAttribute() != pkShortAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ShortUpdateWrapper(
+					EvoType1TimeTypesFinder.pkShortAttribute(),
+					data,
+					pkShortAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getPkStringAttribute() == null)
+			{
+				dataChanged = pkStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkStringAttribute().equals(pkStringAttribute);
+			}
+
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new StringUpdateWrapper(
+					EvoType1TimeTypesFinder.pkStringAttribute(),
+					data,
+					pkStringAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getPkTimestampAttribute() == null)
+			{
+				dataChanged = pkTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkTimestampAttribute().equals(pkTimestampAttribute);
+			}
+
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimestampUpdateWrapper(
+					EvoType1TimeTypesFinder.pkTimestampAttribute(),
+					data,
+					pkTimestampAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getPkBigDecimalAttribute() == null)
+			{
+				dataChanged = pkBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkBigDecimalAttribute().equals(pkBigDecimalAttribute);
+			}
+
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BigDecimalUpdateWrapper(
+					EvoType1TimeTypesFinder.pkBigDecimalAttribute(),
+					data,
+					pkBigDecimalAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			this.zResetEmbeddedValueObjects(behavior);
+		}
+
+		finally
+		{
+			behavior.clearTempTransaction(this);
+		}
+	}
+
+	public EvoTypesRootWithTime getRootEvo()
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) this.zSynchronizedGetData();
+		EvoTypesRootWithTime evo = data.getRootEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesRootWithTime.managedInstance(this, EvoType1TimeTypesFinder.rootEvo());
+			data.setRootEvo(evo);
+		}
+
+		return evo;
+	}
+
+	public void copyRootEvo(EvoTypesRootWithTime rootEvo)
+	{
+		boolean rootEvoBooleanAttribute = rootEvo.getBooleanAttribute();
+		boolean isRootEvoBooleanAttributeNull = rootEvo.isBooleanAttributeNull();
+		byte rootEvoByteAttribute = rootEvo.getByteAttribute();
+		boolean isRootEvoByteAttributeNull = rootEvo.isByteAttributeNull();
+		char rootEvoCharAttribute = rootEvo.getCharAttribute();
+		boolean isRootEvoCharAttributeNull = rootEvo.isCharAttributeNull();
+		Date rootEvoDateAttribute = rootEvo.getDateAttribute();
+		Time rootEvoTimeAttribute = rootEvo.getTimeAttribute();
+		double rootEvoDoubleAttribute = rootEvo.getDoubleAttribute();
+		boolean isRootEvoDoubleAttributeNull = rootEvo.isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoDoubleAttribute);
+		float rootEvoFloatAttribute = rootEvo.getFloatAttribute();
+		boolean isRootEvoFloatAttributeNull = rootEvo.isFloatAttributeNull();
+		zCheckFloatValue(rootEvoFloatAttribute);
+		int rootEvoIntAttribute = rootEvo.getIntAttribute();
+		boolean isRootEvoIntAttributeNull = rootEvo.isIntAttributeNull();
+		long rootEvoLongAttribute = rootEvo.getLongAttribute();
+		boolean isRootEvoLongAttributeNull = rootEvo.isLongAttributeNull();
+		short rootEvoShortAttribute = rootEvo.getShortAttribute();
+		boolean isRootEvoShortAttributeNull = rootEvo.isShortAttributeNull();
+		String rootEvoStringAttribute = rootEvo.getStringAttribute();
+		if (rootEvoStringAttribute != null) rootEvoStringAttribute = rootEvoStringAttribute.trim();
+		if (rootEvoStringAttribute != null && rootEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoStringAttribute);
+		Timestamp rootEvoTimestampAttribute = rootEvo.getTimestampAttribute();
+		BigDecimal rootEvoBigDecimalAttribute = rootEvo.getBigDecimalAttribute();
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		try
+		{
+			EvoType1TimeTypesData data = null;
+			boolean dataChanged = false;
+			AttributeUpdateWrapper updateWrapper;
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoBooleanAttributeNull() != isRootEvoBooleanAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoBooleanAttribute() != rootEvoBooleanAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BooleanUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoBooleanAttribute(),
+					data,
+					rootEvoBooleanAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoByteAttributeNull() != isRootEvoByteAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoByteAttribute() != rootEvoByteAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ByteUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoByteAttribute(),
+					data,
+					rootEvoByteAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoCharAttributeNull() != isRootEvoCharAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoCharAttribute() != rootEvoCharAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new CharUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoCharAttribute(),
+					data,
+					rootEvoCharAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoDateAttribute().equals(rootEvoDateAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DateUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoDateAttribute(),
+					data,
+					rootEvoDateAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoTimeAttribute() == null)
+			{
+				dataChanged = rootEvoTimeAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoTimeAttribute().equals(rootEvoTimeAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimeUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoTimeAttribute(),
+					data,
+					rootEvoTimeAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoDoubleAttributeNull() != isRootEvoDoubleAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoDoubleAttribute() != rootEvoDoubleAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DoubleUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoDoubleAttribute(),
+					data,
+					rootEvoDoubleAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoFloatAttributeNull() != isRootEvoFloatAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoFloatAttribute() != rootEvoFloatAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new FloatUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoFloatAttribute(),
+					data,
+					rootEvoFloatAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoIntAttributeNull() != isRootEvoIntAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoIntAttribute() != rootEvoIntAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new IntegerUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoIntAttribute(),
+					data,
+					rootEvoIntAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoLongAttributeNull() != isRootEvoLongAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoLongAttribute() != rootEvoLongAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new LongUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoLongAttribute(),
+					data,
+					rootEvoLongAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoShortAttributeNull() != isRootEvoShortAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoShortAttribute() != rootEvoShortAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ShortUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoShortAttribute(),
+					data,
+					rootEvoShortAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoStringAttribute().equals(rootEvoStringAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new StringUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoStringAttribute(),
+					data,
+					rootEvoStringAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoTimestampAttribute().equals(rootEvoTimestampAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimestampUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoTimestampAttribute(),
+					data,
+					rootEvoTimestampAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType1TimeTypesData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoBigDecimalAttribute().equals(rootEvoBigDecimalAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BigDecimalUpdateWrapper(
+					EvoType1TimeTypesFinder.rootEvoBigDecimalAttribute(),
+					data,
+					rootEvoBigDecimalAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			this.zResetEmbeddedValueObjects(behavior);
+		}
+
+		finally
+		{
+			behavior.clearTempTransaction(this);
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, EvoType1TimeTypesFinder.rootEvoBooleanAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.rootEvoByteAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.rootEvoCharAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.rootEvoDoubleAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.rootEvoFloatAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.rootEvoIntAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.rootEvoLongAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.rootEvoShortAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.booleanAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.byteAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.charAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.doubleAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.floatAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.intAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.longAttribute(), false);
+		zNullify(behavior, data, EvoType1TimeTypesFinder.shortAttribute(), false);
+	}
+
+	protected void setRootEvoBooleanAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.rootEvoBooleanAttribute(), false);
+	}
+
+	protected void setRootEvoByteAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.rootEvoByteAttribute(), false);
+	}
+
+	protected void setRootEvoCharAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.rootEvoCharAttribute(), false);
+	}
+
+	protected void setRootEvoDoubleAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.rootEvoDoubleAttribute(), false);
+	}
+
+	protected void setRootEvoFloatAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.rootEvoFloatAttribute(), false);
+	}
+
+	protected void setRootEvoIntAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.rootEvoIntAttribute(), false);
+	}
+
+	protected void setRootEvoLongAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.rootEvoLongAttribute(), false);
+	}
+
+	protected void setRootEvoShortAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.rootEvoShortAttribute(), false);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.booleanAttribute(), false);
+	}
+
+	public void setByteAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.byteAttribute(), false);
+	}
+
+	public void setCharAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.charAttribute(), false);
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.doubleAttribute(), false);
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.floatAttribute(), false);
+	}
+
+	public void setIntAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.intAttribute(), false);
+	}
+
+	public void setLongAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.longAttribute(), false);
+	}
+
+	public void setShortAttributeNull()
+	{
+		zNullify(EvoType1TimeTypesFinder.shortAttribute(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		EvoType1TimeTypesData _newData = (EvoType1TimeTypesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		EvoType1TimeTypesData _newData = (EvoType1TimeTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		EvoType1TimeTypesData _newData = (EvoType1TimeTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public EvoType1TimeTypes zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		EvoType1TimeTypes original = (EvoType1TimeTypes) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return EvoType1TimeTypesFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return EvoType1TimeTypesFinder.getMithraObjectPortal();
+	}
+
+	public EvoType1TimeTypes getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1TimeTypesFinder.booleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1TimeTypesFinder.byteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1TimeTypesFinder.charAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1TimeTypesFinder.dateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1TimeTypesFinder.doubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1TimeTypesFinder.floatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1TimeTypesFinder.intAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1TimeTypesFinder.longAttribute(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoStringAttribute(), false);
+		changed |= zUpdateTime(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoTimeAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1TimeTypesFinder.rootEvoTimestampAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1TimeTypesFinder.shortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType1TimeTypesFinder.stringAttribute(), false);
+		changed |= zUpdateTime(behavior, data, newData, EvoType1TimeTypesFinder.timeAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1TimeTypesFinder.timestampAttribute(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1TimeTypesFinder.pkBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1TimeTypesFinder.pkBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1TimeTypesFinder.pkByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1TimeTypesFinder.pkCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1TimeTypesFinder.pkDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1TimeTypesFinder.pkDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1TimeTypesFinder.pkFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1TimeTypesFinder.pkIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1TimeTypesFinder.pkLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1TimeTypesFinder.pkShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType1TimeTypesFinder.pkStringAttribute(), false);
+		changed |= zUpdateTime(behavior, data, newData, EvoType1TimeTypesFinder.pkTimeAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1TimeTypesFinder.pkTimestampAttribute(), false);
+		return changed;
+	}
+
+	protected void zResetEmbeddedValueObjects(TransactionalBehavior behavior)
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData) behavior.getCurrentDataForWrite(this);
+		data.setPk(null);
+		data.setRootEvo(null);
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		EvoType1TimeTypesAbstract result = (EvoType1TimeTypesAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1505 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EvoType1TimeTypesData
+implements MithraDataObject
+{
+	private short isNullBits0 = 0;
+	private boolean booleanAttribute;
+	private byte byteAttribute;
+	private char charAttribute;
+	private Date dateAttribute;
+	private double doubleAttribute;
+	private float floatAttribute;
+	private int intAttribute;
+	private long longAttribute;
+	private BigDecimal pkBigDecimalAttribute;
+	private boolean pkBooleanAttribute;
+	private byte pkByteAttribute;
+	private char pkCharAttribute;
+	private Date pkDateAttribute;
+	private double pkDoubleAttribute;
+	private float pkFloatAttribute;
+	private int pkIntAttribute;
+	private long pkLongAttribute;
+	private short pkShortAttribute;
+	private String pkStringAttribute;
+	private Time pkTimeAttribute;
+	private Timestamp pkTimestampAttribute;
+	private BigDecimal rootEvoBigDecimalAttribute;
+	private boolean rootEvoBooleanAttribute;
+	private byte rootEvoByteAttribute;
+	private char rootEvoCharAttribute;
+	private Date rootEvoDateAttribute;
+	private double rootEvoDoubleAttribute;
+	private float rootEvoFloatAttribute;
+	private int rootEvoIntAttribute;
+	private long rootEvoLongAttribute;
+	private short rootEvoShortAttribute;
+	private String rootEvoStringAttribute;
+	private Time rootEvoTimeAttribute;
+	private Timestamp rootEvoTimestampAttribute;
+	private short shortAttribute;
+	private String stringAttribute;
+	private Time timeAttribute;
+	private Timestamp timestampAttribute;
+	private EvoTypesTime pk;
+	private EvoTypesRootWithTime rootEvo;
+	public boolean isDateAttributeNull()
+	{
+		return this.getDateAttribute() == null;
+	}
+
+	protected boolean isPkBigDecimalAttributeNull()
+	{
+		return this.getPkBigDecimalAttribute() == null;
+	}
+
+	protected boolean isPkBooleanAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkByteAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkCharAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkDateAttributeNull()
+	{
+		return this.getPkDateAttribute() == null;
+	}
+
+	protected boolean isPkDoubleAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkFloatAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkIntAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkLongAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkShortAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkStringAttributeNull()
+	{
+		return this.getPkStringAttribute() == null;
+	}
+
+	protected boolean isPkTimeAttributeNull()
+	{
+		return this.getPkTimeAttribute() == null;
+	}
+
+	protected boolean isPkTimestampAttributeNull()
+	{
+		return this.getPkTimestampAttribute() == null;
+	}
+
+	protected boolean isRootEvoBigDecimalAttributeNull()
+	{
+		return this.getRootEvoBigDecimalAttribute() == null;
+	}
+
+	protected boolean isRootEvoDateAttributeNull()
+	{
+		return this.getRootEvoDateAttribute() == null;
+	}
+
+	protected boolean isRootEvoStringAttributeNull()
+	{
+		return this.getRootEvoStringAttribute() == null;
+	}
+
+	protected boolean isRootEvoTimeAttributeNull()
+	{
+		return this.getRootEvoTimeAttribute() == null;
+	}
+
+	protected boolean isRootEvoTimestampAttributeNull()
+	{
+		return this.getRootEvoTimestampAttribute() == null;
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.getStringAttribute() == null;
+	}
+
+	public boolean isTimeAttributeNull()
+	{
+		return this.getTimeAttribute() == null;
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.getTimestampAttribute() == null;
+	}
+
+	protected boolean isRootEvoBooleanAttributeNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	protected boolean isRootEvoByteAttributeNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	protected boolean isRootEvoCharAttributeNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	protected boolean isRootEvoDoubleAttributeNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	protected boolean isRootEvoFloatAttributeNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	protected boolean isRootEvoIntAttributeNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	protected boolean isRootEvoLongAttributeNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	protected boolean isRootEvoShortAttributeNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return (isNullBits0 & 1 << 8) != 0 ;
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return (isNullBits0 & 1 << 9) != 0 ;
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return (isNullBits0 & 1 << 10) != 0 ;
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return (isNullBits0 & 1 << 11) != 0 ;
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return (isNullBits0 & 1 << 12) != 0 ;
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return (isNullBits0 & 1 << 13) != 0 ;
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return (isNullBits0 & 1 << 14) != 0 ;
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return (isNullBits0 & 1 << 15) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.booleanAttribute);
+		out.writeByte(this.byteAttribute);
+		out.writeChar(this.charAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.dateAttribute);
+		out.writeDouble(this.doubleAttribute);
+		out.writeFloat(this.floatAttribute);
+		out.writeInt(this.intAttribute);
+		out.writeLong(this.longAttribute);
+		out.writeObject(this.pkBigDecimalAttribute);
+		out.writeBoolean(this.pkBooleanAttribute);
+		out.writeByte(this.pkByteAttribute);
+		out.writeChar(this.pkCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.pkDateAttribute);
+		out.writeDouble(this.pkDoubleAttribute);
+		out.writeFloat(this.pkFloatAttribute);
+		out.writeInt(this.pkIntAttribute);
+		out.writeLong(this.pkLongAttribute);
+		out.writeShort(this.pkShortAttribute);
+		out.writeObject(this.pkStringAttribute);
+		out.writeObject(this.pkTimeAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.pkTimestampAttribute);
+		out.writeObject(this.rootEvoBigDecimalAttribute);
+		out.writeBoolean(this.rootEvoBooleanAttribute);
+		out.writeByte(this.rootEvoByteAttribute);
+		out.writeChar(this.rootEvoCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.rootEvoDateAttribute);
+		out.writeDouble(this.rootEvoDoubleAttribute);
+		out.writeFloat(this.rootEvoFloatAttribute);
+		out.writeInt(this.rootEvoIntAttribute);
+		out.writeLong(this.rootEvoLongAttribute);
+		out.writeShort(this.rootEvoShortAttribute);
+		out.writeObject(this.rootEvoStringAttribute);
+		out.writeObject(this.rootEvoTimeAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.rootEvoTimestampAttribute);
+		out.writeShort(this.shortAttribute);
+		out.writeObject(this.stringAttribute);
+		out.writeObject(this.timeAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.timestampAttribute);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeShort(this.isNullBits0);
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		return this.booleanAttribute;
+	}
+
+	public void setBooleanAttribute(boolean value)
+	{
+		this.booleanAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 8));
+	}
+
+	public byte getByteAttribute()
+	{
+		return this.byteAttribute;
+	}
+
+	public void setByteAttribute(byte value)
+	{
+		this.byteAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 9));
+	}
+
+	public char getCharAttribute()
+	{
+		return this.charAttribute;
+	}
+
+	public void setCharAttribute(char value)
+	{
+		this.charAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 10));
+	}
+
+	public Date getDateAttribute()
+	{
+		return this.dateAttribute;
+	}
+
+	public void setDateAttribute(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.dateAttribute = (java.sql.Date) value;
+		}
+		else
+		{
+			this.dateAttribute = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setDateAttributeNull()
+	{
+		this.setDateAttribute(null);
+	}
+
+	public double getDoubleAttribute()
+	{
+		return this.doubleAttribute;
+	}
+
+	public void setDoubleAttribute(double value)
+	{
+		this.doubleAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 11));
+	}
+
+	public float getFloatAttribute()
+	{
+		return this.floatAttribute;
+	}
+
+	public void setFloatAttribute(float value)
+	{
+		this.floatAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 12));
+	}
+
+	public int getIntAttribute()
+	{
+		return this.intAttribute;
+	}
+
+	public void setIntAttribute(int value)
+	{
+		this.intAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 13));
+	}
+
+	public long getLongAttribute()
+	{
+		return this.longAttribute;
+	}
+
+	public void setLongAttribute(long value)
+	{
+		this.longAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 14));
+	}
+
+	protected BigDecimal getPkBigDecimalAttribute()
+	{
+		return this.pkBigDecimalAttribute;
+	}
+
+	protected void setPkBigDecimalAttribute(BigDecimal value)
+	{
+		this.pkBigDecimalAttribute = value;
+	}
+
+	protected void setPkBigDecimalAttributeNull()
+	{
+		this.setPkBigDecimalAttribute(null);
+	}
+
+	protected boolean isPkBooleanAttribute()
+	{
+		return this.pkBooleanAttribute;
+	}
+
+	protected void setPkBooleanAttribute(boolean value)
+	{
+		this.pkBooleanAttribute = value;
+	}
+
+	protected void setPkBooleanAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected byte getPkByteAttribute()
+	{
+		return this.pkByteAttribute;
+	}
+
+	protected void setPkByteAttribute(byte value)
+	{
+		this.pkByteAttribute = value;
+	}
+
+	protected void setPkByteAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected char getPkCharAttribute()
+	{
+		return this.pkCharAttribute;
+	}
+
+	protected void setPkCharAttribute(char value)
+	{
+		this.pkCharAttribute = value;
+	}
+
+	protected void setPkCharAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected Date getPkDateAttribute()
+	{
+		return this.pkDateAttribute;
+	}
+
+	protected void setPkDateAttribute(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.pkDateAttribute = (java.sql.Date) value;
+		}
+		else
+		{
+			this.pkDateAttribute = new java.sql.Date(value.getTime());
+		}
+	}
+
+	protected void setPkDateAttributeNull()
+	{
+		this.setPkDateAttribute(null);
+	}
+
+	protected double getPkDoubleAttribute()
+	{
+		return this.pkDoubleAttribute;
+	}
+
+	protected void setPkDoubleAttribute(double value)
+	{
+		this.pkDoubleAttribute = value;
+	}
+
+	protected void setPkDoubleAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected float getPkFloatAttribute()
+	{
+		return this.pkFloatAttribute;
+	}
+
+	protected void setPkFloatAttribute(float value)
+	{
+		this.pkFloatAttribute = value;
+	}
+
+	protected void setPkFloatAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected int getPkIntAttribute()
+	{
+		return this.pkIntAttribute;
+	}
+
+	protected void setPkIntAttribute(int value)
+	{
+		this.pkIntAttribute = value;
+	}
+
+	protected void setPkIntAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected long getPkLongAttribute()
+	{
+		return this.pkLongAttribute;
+	}
+
+	protected void setPkLongAttribute(long value)
+	{
+		this.pkLongAttribute = value;
+	}
+
+	protected void setPkLongAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected short getPkShortAttribute()
+	{
+		return this.pkShortAttribute;
+	}
+
+	protected void setPkShortAttribute(short value)
+	{
+		this.pkShortAttribute = value;
+	}
+
+	protected void setPkShortAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected String getPkStringAttribute()
+	{
+		return this.pkStringAttribute;
+	}
+
+	public int zGetPkStringAttributeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(pkStringAttribute);
+	}
+
+	protected void setPkStringAttribute(String value)
+	{
+		this.pkStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType1TimeTypesFinder.isFullCache());
+	}
+
+	protected void setPkStringAttributeNull()
+	{
+		this.setPkStringAttribute(null);
+	}
+
+	protected Time getPkTimeAttribute()
+	{
+		return this.pkTimeAttribute;
+	}
+
+	public long zGetOffHeapPkTimeAttributeAsLong()
+	{
+		if (pkTimeAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return pkTimeAttribute.getOffHeapTime();
+	}
+
+	protected void setPkTimeAttribute(Time value)
+	{
+		this.pkTimeAttribute = value;
+	}
+
+	protected void setPkTimeAttributeNull()
+	{
+		this.setPkTimeAttribute(null);
+	}
+
+	protected Timestamp getPkTimestampAttribute()
+	{
+		return this.pkTimestampAttribute;
+	}
+
+	public long zGetPkTimestampAttributeAsLong()
+	{
+		if (pkTimestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return pkTimestampAttribute.getTime();
+	}
+
+	protected void setPkTimestampAttribute(Timestamp value)
+	{
+		this.pkTimestampAttribute = value;
+	}
+
+	protected void setPkTimestampAttributeNull()
+	{
+		this.setPkTimestampAttribute(null);
+	}
+
+	protected BigDecimal getRootEvoBigDecimalAttribute()
+	{
+		return this.rootEvoBigDecimalAttribute;
+	}
+
+	protected void setRootEvoBigDecimalAttribute(BigDecimal value)
+	{
+		this.rootEvoBigDecimalAttribute = value;
+	}
+
+	protected void setRootEvoBigDecimalAttributeNull()
+	{
+		this.setRootEvoBigDecimalAttribute(null);
+	}
+
+	protected boolean isRootEvoBooleanAttribute()
+	{
+		return this.rootEvoBooleanAttribute;
+	}
+
+	protected void setRootEvoBooleanAttribute(boolean value)
+	{
+		this.rootEvoBooleanAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1));
+	}
+
+	protected byte getRootEvoByteAttribute()
+	{
+		return this.rootEvoByteAttribute;
+	}
+
+	protected void setRootEvoByteAttribute(byte value)
+	{
+		this.rootEvoByteAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	protected char getRootEvoCharAttribute()
+	{
+		return this.rootEvoCharAttribute;
+	}
+
+	protected void setRootEvoCharAttribute(char value)
+	{
+		this.rootEvoCharAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	protected Date getRootEvoDateAttribute()
+	{
+		return this.rootEvoDateAttribute;
+	}
+
+	protected void setRootEvoDateAttribute(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.rootEvoDateAttribute = (java.sql.Date) value;
+		}
+		else
+		{
+			this.rootEvoDateAttribute = new java.sql.Date(value.getTime());
+		}
+	}
+
+	protected void setRootEvoDateAttributeNull()
+	{
+		this.setRootEvoDateAttribute(null);
+	}
+
+	protected double getRootEvoDoubleAttribute()
+	{
+		return this.rootEvoDoubleAttribute;
+	}
+
+	protected void setRootEvoDoubleAttribute(double value)
+	{
+		this.rootEvoDoubleAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	protected float getRootEvoFloatAttribute()
+	{
+		return this.rootEvoFloatAttribute;
+	}
+
+	protected void setRootEvoFloatAttribute(float value)
+	{
+		this.rootEvoFloatAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	protected int getRootEvoIntAttribute()
+	{
+		return this.rootEvoIntAttribute;
+	}
+
+	protected void setRootEvoIntAttribute(int value)
+	{
+		this.rootEvoIntAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	protected long getRootEvoLongAttribute()
+	{
+		return this.rootEvoLongAttribute;
+	}
+
+	protected void setRootEvoLongAttribute(long value)
+	{
+		this.rootEvoLongAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	protected short getRootEvoShortAttribute()
+	{
+		return this.rootEvoShortAttribute;
+	}
+
+	protected void setRootEvoShortAttribute(short value)
+	{
+		this.rootEvoShortAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	protected String getRootEvoStringAttribute()
+	{
+		return this.rootEvoStringAttribute;
+	}
+
+	public int zGetRootEvoStringAttributeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(rootEvoStringAttribute);
+	}
+
+	protected void setRootEvoStringAttribute(String value)
+	{
+		this.rootEvoStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType1TimeTypesFinder.isFullCache());
+	}
+
+	protected void setRootEvoStringAttributeNull()
+	{
+		this.setRootEvoStringAttribute(null);
+	}
+
+	protected Time getRootEvoTimeAttribute()
+	{
+		return this.rootEvoTimeAttribute;
+	}
+
+	public long zGetOffHeapRootEvoTimeAttributeAsLong()
+	{
+		if (rootEvoTimeAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return rootEvoTimeAttribute.getOffHeapTime();
+	}
+
+	protected void setRootEvoTimeAttribute(Time value)
+	{
+		this.rootEvoTimeAttribute = value;
+	}
+
+	protected void setRootEvoTimeAttributeNull()
+	{
+		this.setRootEvoTimeAttribute(null);
+	}
+
+	protected Timestamp getRootEvoTimestampAttribute()
+	{
+		return this.rootEvoTimestampAttribute;
+	}
+
+	public long zGetRootEvoTimestampAttributeAsLong()
+	{
+		if (rootEvoTimestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return rootEvoTimestampAttribute.getTime();
+	}
+
+	protected void setRootEvoTimestampAttribute(Timestamp value)
+	{
+		this.rootEvoTimestampAttribute = value;
+	}
+
+	protected void setRootEvoTimestampAttributeNull()
+	{
+		this.setRootEvoTimestampAttribute(null);
+	}
+
+	public short getShortAttribute()
+	{
+		return this.shortAttribute;
+	}
+
+	public void setShortAttribute(short value)
+	{
+		this.shortAttribute = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 15));
+	}
+
+	public String getStringAttribute()
+	{
+		return this.stringAttribute;
+	}
+
+	public int zGetStringAttributeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(stringAttribute);
+	}
+
+	public void setStringAttribute(String value)
+	{
+		this.stringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType1TimeTypesFinder.isFullCache());
+	}
+
+	public void setStringAttributeNull()
+	{
+		this.setStringAttribute(null);
+	}
+
+	public Time getTimeAttribute()
+	{
+		return this.timeAttribute;
+	}
+
+	public long zGetOffHeapTimeAttributeAsLong()
+	{
+		if (timeAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return timeAttribute.getOffHeapTime();
+	}
+
+	public void setTimeAttribute(Time value)
+	{
+		this.timeAttribute = value;
+	}
+
+	public void setTimeAttributeNull()
+	{
+		this.setTimeAttribute(null);
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		return this.timestampAttribute;
+	}
+
+	public long zGetTimestampAttributeAsLong()
+	{
+		if (timestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return timestampAttribute.getTime();
+	}
+
+	public void setTimestampAttribute(Timestamp value)
+	{
+		this.timestampAttribute = TimestampPool.getInstance().getOrAddToCache(value, EvoType1TimeTypesFinder.isFullCache(), EvoType1TimeTypesFinder.isOffHeap());
+	}
+
+	public void setTimestampAttributeNull()
+	{
+		this.setTimestampAttribute(null);
+	}
+
+	public EvoTypesTime getPk()
+	{
+		return this.pk;
+	}
+
+	public void setPk(EvoTypesTime pk)
+	{
+		this.pk = pk;
+	}
+
+	public EvoTypesRootWithTime getRootEvo()
+	{
+		return this.rootEvo;
+	}
+
+	public void setRootEvo(EvoTypesRootWithTime rootEvo)
+	{
+		this.rootEvo = rootEvo;
+	}
+
+	protected void setRootEvoBooleanAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1);
+	}
+
+	protected void setRootEvoByteAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 1);
+	}
+
+	protected void setRootEvoCharAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 2);
+	}
+
+	protected void setRootEvoDoubleAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 3);
+	}
+
+	protected void setRootEvoFloatAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 4);
+	}
+
+	protected void setRootEvoIntAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 5);
+	}
+
+	protected void setRootEvoLongAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 6);
+	}
+
+	protected void setRootEvoShortAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 7);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 8);
+	}
+
+	public void setByteAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 9);
+	}
+
+	public void setCharAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 10);
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 11);
+	}
+
+	public void setFloatAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 12);
+	}
+
+	public void setIntAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 13);
+	}
+
+	public void setLongAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 14);
+	}
+
+	public void setShortAttributeNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 15);
+	}
+
+	public short zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(short newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(EvoType1TimeTypesData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.booleanAttribute = this.booleanAttribute;
+		copy.byteAttribute = this.byteAttribute;
+		copy.charAttribute = this.charAttribute;
+		copy.dateAttribute = this.dateAttribute;
+		copy.doubleAttribute = this.doubleAttribute;
+		copy.floatAttribute = this.floatAttribute;
+		copy.intAttribute = this.intAttribute;
+		copy.longAttribute = this.longAttribute;
+		copy.pkBigDecimalAttribute = this.pkBigDecimalAttribute;
+		copy.pkBooleanAttribute = this.pkBooleanAttribute;
+		copy.pkByteAttribute = this.pkByteAttribute;
+		copy.pkCharAttribute = this.pkCharAttribute;
+		copy.pkDateAttribute = this.pkDateAttribute;
+		copy.pkDoubleAttribute = this.pkDoubleAttribute;
+		copy.pkFloatAttribute = this.pkFloatAttribute;
+		copy.pkIntAttribute = this.pkIntAttribute;
+		copy.pkLongAttribute = this.pkLongAttribute;
+		copy.pkShortAttribute = this.pkShortAttribute;
+		copy.pkStringAttribute = this.pkStringAttribute;
+		copy.pkTimeAttribute = this.pkTimeAttribute;
+		copy.pkTimestampAttribute = this.pkTimestampAttribute;
+		copy.rootEvoBigDecimalAttribute = this.rootEvoBigDecimalAttribute;
+		copy.rootEvoBooleanAttribute = this.rootEvoBooleanAttribute;
+		copy.rootEvoByteAttribute = this.rootEvoByteAttribute;
+		copy.rootEvoCharAttribute = this.rootEvoCharAttribute;
+		copy.rootEvoDateAttribute = this.rootEvoDateAttribute;
+		copy.rootEvoDoubleAttribute = this.rootEvoDoubleAttribute;
+		copy.rootEvoFloatAttribute = this.rootEvoFloatAttribute;
+		copy.rootEvoIntAttribute = this.rootEvoIntAttribute;
+		copy.rootEvoLongAttribute = this.rootEvoLongAttribute;
+		copy.rootEvoShortAttribute = this.rootEvoShortAttribute;
+		copy.rootEvoStringAttribute = this.rootEvoStringAttribute;
+		copy.rootEvoTimeAttribute = this.rootEvoTimeAttribute;
+		copy.rootEvoTimestampAttribute = this.rootEvoTimestampAttribute;
+		copy.shortAttribute = this.shortAttribute;
+		copy.stringAttribute = this.stringAttribute;
+		copy.timeAttribute = this.timeAttribute;
+		copy.timestampAttribute = this.timestampAttribute;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readShort();
+		this.booleanAttribute = in.readBoolean();
+		this.byteAttribute = in.readByte();
+		this.charAttribute = in.readChar();
+		this.dateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.doubleAttribute = in.readDouble();
+		this.floatAttribute = in.readFloat();
+		this.intAttribute = in.readInt();
+		this.longAttribute = in.readLong();
+		this.pkBigDecimalAttribute = (BigDecimal)in.readObject();
+		this.pkBooleanAttribute = in.readBoolean();
+		this.pkByteAttribute = in.readByte();
+		this.pkCharAttribute = in.readChar();
+		this.pkDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.pkDoubleAttribute = in.readDouble();
+		this.pkFloatAttribute = in.readFloat();
+		this.pkIntAttribute = in.readInt();
+		this.pkLongAttribute = in.readLong();
+		this.pkShortAttribute = in.readShort();
+		this.pkStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TimeTypesFinder.isFullCache());
+		this.pkTimeAttribute = (Time)in.readObject();
+		this.pkTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+		this.rootEvoBigDecimalAttribute = (BigDecimal)in.readObject();
+		this.rootEvoBooleanAttribute = in.readBoolean();
+		this.rootEvoByteAttribute = in.readByte();
+		this.rootEvoCharAttribute = in.readChar();
+		this.rootEvoDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.rootEvoDoubleAttribute = in.readDouble();
+		this.rootEvoFloatAttribute = in.readFloat();
+		this.rootEvoIntAttribute = in.readInt();
+		this.rootEvoLongAttribute = in.readLong();
+		this.rootEvoShortAttribute = in.readShort();
+		this.rootEvoStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TimeTypesFinder.isFullCache());
+		this.rootEvoTimeAttribute = (Time)in.readObject();
+		this.rootEvoTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+		this.shortAttribute = in.readShort();
+		this.stringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TimeTypesFinder.isFullCache());
+		this.timeAttribute = (Time)in.readObject();
+		this.timestampAttribute = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), EvoType1TimeTypesFinder.isFullCache(), EvoType1TimeTypesFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final EvoType1TimeTypesData otherData = (EvoType1TimeTypesData) other;
+		if (!isPkBigDecimalAttributeNull() ? !getPkBigDecimalAttribute().equals(otherData.getPkBigDecimalAttribute()) : !otherData.isPkBigDecimalAttributeNull())
+		{
+			return false;
+		}
+
+		if (isPkBooleanAttribute() != otherData.isPkBooleanAttribute())
+		{
+			return false;
+		}
+
+		if (getPkByteAttribute() != otherData.getPkByteAttribute())
+		{
+			return false;
+		}
+
+		if (getPkCharAttribute() != otherData.getPkCharAttribute())
+		{
+			return false;
+		}
+
+		if (!isPkDateAttributeNull() ? !getPkDateAttribute().equals(otherData.getPkDateAttribute()) : !otherData.isPkDateAttributeNull())
+		{
+			return false;
+		}
+
+		if (getPkDoubleAttribute() != otherData.getPkDoubleAttribute())
+		{
+			return false;
+		}
+
+		if (getPkFloatAttribute() != otherData.getPkFloatAttribute())
+		{
+			return false;
+		}
+
+		if (getPkIntAttribute() != otherData.getPkIntAttribute())
+		{
+			return false;
+		}
+
+		if (getPkLongAttribute() != otherData.getPkLongAttribute())
+		{
+			return false;
+		}
+
+		if (getPkShortAttribute() != otherData.getPkShortAttribute())
+		{
+			return false;
+		}
+
+		if (!isPkStringAttributeNull() ? !getPkStringAttribute().equals(otherData.getPkStringAttribute()) : !otherData.isPkStringAttributeNull())
+		{
+			return false;
+		}
+
+		if (!isPkTimeAttributeNull() ? !getPkTimeAttribute().equals(otherData.getPkTimeAttribute()) : !otherData.isPkTimeAttributeNull())
+		{
+			return false;
+		}
+
+		if (!isPkTimestampAttributeNull() ? !getPkTimestampAttribute().equals(otherData.getPkTimestampAttribute()) : !otherData.isPkTimestampAttributeNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.pkBigDecimalAttribute);
+		out.writeBoolean(this.pkBooleanAttribute);
+		out.writeByte(this.pkByteAttribute);
+		out.writeChar(this.pkCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.pkDateAttribute);
+		out.writeDouble(this.pkDoubleAttribute);
+		out.writeFloat(this.pkFloatAttribute);
+		out.writeInt(this.pkIntAttribute);
+		out.writeLong(this.pkLongAttribute);
+		out.writeShort(this.pkShortAttribute);
+		out.writeObject(this.pkStringAttribute);
+		out.writeObject(this.pkTimeAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.pkTimestampAttribute);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.pkBigDecimalAttribute = (BigDecimal)in.readObject();
+		this.pkBooleanAttribute = in.readBoolean();
+		this.pkByteAttribute = in.readByte();
+		this.pkCharAttribute = in.readChar();
+		this.pkDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.pkDoubleAttribute = in.readDouble();
+		this.pkFloatAttribute = in.readFloat();
+		this.pkIntAttribute = in.readInt();
+		this.pkLongAttribute = in.readLong();
+		this.pkShortAttribute = in.readShort();
+		this.pkStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TimeTypesFinder.isFullCache());
+		this.pkTimeAttribute = (Time)in.readObject();
+		this.pkTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final EvoType1TimeTypesData evoType1TimeTypesData = (EvoType1TimeTypesData) newData;
+		this.setBooleanAttribute(evoType1TimeTypesData.isBooleanAttribute());
+		if (evoType1TimeTypesData.isBooleanAttributeNull()) this.setBooleanAttributeNull();
+		this.setByteAttribute(evoType1TimeTypesData.getByteAttribute());
+		if (evoType1TimeTypesData.isByteAttributeNull()) this.setByteAttributeNull();
+		this.setCharAttribute(evoType1TimeTypesData.getCharAttribute());
+		if (evoType1TimeTypesData.isCharAttributeNull()) this.setCharAttributeNull();
+		this.setDateAttribute(evoType1TimeTypesData.getDateAttribute());
+		this.setDoubleAttribute(evoType1TimeTypesData.getDoubleAttribute());
+		if (evoType1TimeTypesData.isDoubleAttributeNull()) this.setDoubleAttributeNull();
+		this.setFloatAttribute(evoType1TimeTypesData.getFloatAttribute());
+		if (evoType1TimeTypesData.isFloatAttributeNull()) this.setFloatAttributeNull();
+		this.setIntAttribute(evoType1TimeTypesData.getIntAttribute());
+		if (evoType1TimeTypesData.isIntAttributeNull()) this.setIntAttributeNull();
+		this.setLongAttribute(evoType1TimeTypesData.getLongAttribute());
+		if (evoType1TimeTypesData.isLongAttributeNull()) this.setLongAttributeNull();
+		this.setRootEvoBigDecimalAttribute(evoType1TimeTypesData.getRootEvoBigDecimalAttribute());
+		this.setRootEvoBooleanAttribute(evoType1TimeTypesData.isRootEvoBooleanAttribute());
+		if (evoType1TimeTypesData.isRootEvoBooleanAttributeNull()) this.setRootEvoBooleanAttributeNull();
+		this.setRootEvoByteAttribute(evoType1TimeTypesData.getRootEvoByteAttribute());
+		if (evoType1TimeTypesData.isRootEvoByteAttributeNull()) this.setRootEvoByteAttributeNull();
+		this.setRootEvoCharAttribute(evoType1TimeTypesData.getRootEvoCharAttribute());
+		if (evoType1TimeTypesData.isRootEvoCharAttributeNull()) this.setRootEvoCharAttributeNull();
+		this.setRootEvoDateAttribute(evoType1TimeTypesData.getRootEvoDateAttribute());
+		this.setRootEvoDoubleAttribute(evoType1TimeTypesData.getRootEvoDoubleAttribute());
+		if (evoType1TimeTypesData.isRootEvoDoubleAttributeNull()) this.setRootEvoDoubleAttributeNull();
+		this.setRootEvoFloatAttribute(evoType1TimeTypesData.getRootEvoFloatAttribute());
+		if (evoType1TimeTypesData.isRootEvoFloatAttributeNull()) this.setRootEvoFloatAttributeNull();
+		this.setRootEvoIntAttribute(evoType1TimeTypesData.getRootEvoIntAttribute());
+		if (evoType1TimeTypesData.isRootEvoIntAttributeNull()) this.setRootEvoIntAttributeNull();
+		this.setRootEvoLongAttribute(evoType1TimeTypesData.getRootEvoLongAttribute());
+		if (evoType1TimeTypesData.isRootEvoLongAttributeNull()) this.setRootEvoLongAttributeNull();
+		this.setRootEvoShortAttribute(evoType1TimeTypesData.getRootEvoShortAttribute());
+		if (evoType1TimeTypesData.isRootEvoShortAttributeNull()) this.setRootEvoShortAttributeNull();
+		this.setRootEvoStringAttribute(evoType1TimeTypesData.getRootEvoStringAttribute());
+		this.setRootEvoTimeAttribute(evoType1TimeTypesData.getRootEvoTimeAttribute());
+		this.setRootEvoTimestampAttribute(evoType1TimeTypesData.getRootEvoTimestampAttribute());
+		this.setShortAttribute(evoType1TimeTypesData.getShortAttribute());
+		if (evoType1TimeTypesData.isShortAttributeNull()) this.setShortAttributeNull();
+		this.setStringAttribute(evoType1TimeTypesData.getStringAttribute());
+		this.setTimeAttribute(evoType1TimeTypesData.getTimeAttribute());
+		this.setTimestampAttribute(evoType1TimeTypesData.getTimestampAttribute());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final EvoType1TimeTypesData other = (EvoType1TimeTypesData) newData;
+		if ( isBooleanAttributeNull() != other.isBooleanAttributeNull() || isBooleanAttribute() != other.isBooleanAttribute())
+		{
+			return true;
+		}
+
+		if ( isByteAttributeNull() != other.isByteAttributeNull() || getByteAttribute() != other.getByteAttribute())
+		{
+			return true;
+		}
+
+		if ( isCharAttributeNull() != other.isCharAttributeNull() || getCharAttribute() != other.getCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isDateAttributeNull() ? !getDateAttribute().equals(other.getDateAttribute()) : !other.isDateAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isDoubleAttributeNull() != other.isDoubleAttributeNull() || Math.abs(getDoubleAttribute() - other.getDoubleAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFloatAttributeNull() != other.isFloatAttributeNull() || Math.abs(getFloatAttribute() - other.getFloatAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isIntAttributeNull() != other.isIntAttributeNull() || getIntAttribute() != other.getIntAttribute())
+		{
+			return true;
+		}
+
+		if ( isLongAttributeNull() != other.isLongAttributeNull() || getLongAttribute() != other.getLongAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoBigDecimalAttributeNull() ? !getRootEvoBigDecimalAttribute().equals(other.getRootEvoBigDecimalAttribute()) : !other.isRootEvoBigDecimalAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoBooleanAttributeNull() != other.isRootEvoBooleanAttributeNull() || isRootEvoBooleanAttribute() != other.isRootEvoBooleanAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoByteAttributeNull() != other.isRootEvoByteAttributeNull() || getRootEvoByteAttribute() != other.getRootEvoByteAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoCharAttributeNull() != other.isRootEvoCharAttributeNull() || getRootEvoCharAttribute() != other.getRootEvoCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoDateAttributeNull() ? !getRootEvoDateAttribute().equals(other.getRootEvoDateAttribute()) : !other.isRootEvoDateAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoDoubleAttributeNull() != other.isRootEvoDoubleAttributeNull() || Math.abs(getRootEvoDoubleAttribute() - other.getRootEvoDoubleAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRootEvoFloatAttributeNull() != other.isRootEvoFloatAttributeNull() || Math.abs(getRootEvoFloatAttribute() - other.getRootEvoFloatAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRootEvoIntAttributeNull() != other.isRootEvoIntAttributeNull() || getRootEvoIntAttribute() != other.getRootEvoIntAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoLongAttributeNull() != other.isRootEvoLongAttributeNull() || getRootEvoLongAttribute() != other.getRootEvoLongAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoShortAttributeNull() != other.isRootEvoShortAttributeNull() || getRootEvoShortAttribute() != other.getRootEvoShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoStringAttributeNull() ? !getRootEvoStringAttribute().equals(other.getRootEvoStringAttribute()) : !other.isRootEvoStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isRootEvoTimeAttributeNull() ? !getRootEvoTimeAttribute().equals(other.getRootEvoTimeAttribute()) : !other.isRootEvoTimeAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isRootEvoTimestampAttributeNull() ? !getRootEvoTimestampAttribute().equals(other.getRootEvoTimestampAttribute()) : !other.isRootEvoTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isShortAttributeNull() != other.isShortAttributeNull() || getShortAttribute() != other.getShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isStringAttributeNull() ? !getStringAttribute().equals(other.getStringAttribute()) : !other.isStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isTimeAttributeNull() ? !getTimeAttribute().equals(other.getTimeAttribute()) : !other.isTimeAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isTimestampAttributeNull() ? !getTimestampAttribute().equals(other.getTimestampAttribute()) : !other.isTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		EvoType1TimeTypesData copy = new EvoType1TimeTypesData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		EvoType1TimeTypesData copy = new EvoType1TimeTypesData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "pkBigDecimalAttribute: "+(""+getPkBigDecimalAttribute())+ " / ";
+		result += "pkBooleanAttribute: "+(""+isPkBooleanAttribute())+ " / ";
+		result += "pkByteAttribute: "+(""+getPkByteAttribute())+ " / ";
+		result += "pkCharAttribute: "+(""+getPkCharAttribute())+ " / ";
+		result += "pkDateAttribute: "+PrintablePreparedStatement.dateFormat.print(getPkDateAttribute().getTime())+ " / ";
+		result += "pkDoubleAttribute: "+(""+getPkDoubleAttribute())+ " / ";
+		result += "pkFloatAttribute: "+(""+getPkFloatAttribute())+ " / ";
+		result += "pkIntAttribute: "+(""+getPkIntAttribute())+ " / ";
+		result += "pkLongAttribute: "+(""+getPkLongAttribute())+ " / ";
+		result += "pkShortAttribute: "+(""+getPkShortAttribute())+ " / ";
+		result += "pkStringAttribute: "+"'"+getPkStringAttribute()+"'"+ " / ";
+		result += "pkTimeAttribute: "+(""+getPkTimeAttribute())+ " / ";
+		result += "pkTimestampAttribute: "+(isPkTimestampAttributeNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getPkTimestampAttribute().getTime()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.evo.EvoType1TimeTypesData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return EvoType1TimeTypesFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return EvoType1TimeTypesFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.evo.EvoType1TimeTypesData";
+	}
+}
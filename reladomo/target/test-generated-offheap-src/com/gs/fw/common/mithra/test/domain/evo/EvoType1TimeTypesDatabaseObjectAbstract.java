@@ -0,0 +1,941 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class EvoType1TimeTypesDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "BOOLEAN_1,BYTE_1,CHAR_1,DATE_1,TIME_1,DOUBLE_1,FLOAT_1,INT_1,LONG_1,SHORT_1,STRING_1,TIMESTAMP_1,BIGDECIMAL_1,BOOLEAN_0,BYTE_0,CHAR_0,DATE_0,TIME_0,DOUBLE_0,FLOAT_0,INT_0,LONG_0,SHORT_0,STRING_0,TIMESTAMP_0";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.BOOLEAN_1,t0.BYTE_1,t0.CHAR_1,t0.DATE_1,t0.TIME_1,t0.DOUBLE_1,t0.FLOAT_1,t0.INT_1,t0.LONG_1,t0.SHORT_1,t0.STRING_1,t0.TIMESTAMP_1,t0.BIGDECIMAL_1,t0.BOOLEAN_0,t0.BYTE_0,t0.CHAR_0,t0.DATE_0,t0.TIME_0,t0.DOUBLE_0,t0.FLOAT_0,t0.INT_0,t0.LONG_0,t0.SHORT_0,t0.STRING_0,t0.TIMESTAMP_0";
+	private static final String PK_WITH_ALIAS = "t0.BOOLEAN_PK = ? AND t0.BYTE_PK = ? AND t0.CHAR_PK = ? AND t0.DATE_PK = ? AND t0.TIME_PK = ? AND t0.DOUBLE_PK = ? AND t0.FLOAT_PK = ? AND t0.INT_PK = ? AND t0.LONG_PK = ? AND t0.SHORT_PK = ? AND t0.STRING_PK = ? AND t0.TIMESTAMP_PK = ? AND t0.BIGDECIMAL_PK = ?";
+	private static final String PK_INDEX_COLS = "BOOLEAN_PK,BYTE_PK,CHAR_PK,DATE_PK,TIME_PK,DOUBLE_PK,FLOAT_PK,INT_PK,LONG_PK,SHORT_PK,STRING_PK,TIMESTAMP_PK,BIGDECIMAL_PK";
+	protected EvoType1TimeTypesDatabaseObjectAbstract()
+	{
+		super("EvoType1TimeTypes", "com.gs.fw.common.mithra.test.domain.evo.EvoType1TimeTypesFinder",
+			38, 38,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EvoType1TimeTypesFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return EvoType1TimeTypesFinder.getFinderInstance();
+	}
+
+	public static EvoType1TimeTypesData allocateOnHeapData()
+	{
+		return new EvoType1TimeTypesData();
+	}
+
+	public static EvoType1TimeTypesData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new EvoType1TimeTypesData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		EvoType1TimeTypesData data = new EvoType1TimeTypesData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(EvoType1TimeTypesFinder.getPrimaryKeyAttributes(), this, EvoType1TimeTypesFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(EvoType1TimeTypesFinder.getPrimaryKeyAttributes(), this, EvoType1TimeTypesFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(EvoType1TimeTypesFinder.getPrimaryKeyAttributes(), this, EvoType1TimeTypesFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(EvoType1TimeTypesFinder.getPrimaryKeyAttributes(), this, EvoType1TimeTypesFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			EvoType1TimeTypesFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			EvoType1TimeTypesFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			EvoType1TimeTypes.zConfigFullTx();
+		}
+		else
+		{
+			EvoType1TimeTypes.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateEvoType1TimeTypesData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkEvoType1TimeTypesData(1, (EvoType1TimeTypesData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateEvoType1TimeTypesPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getEvoType1TimeTypesTableName();
+	}
+
+	public String getEvoType1TimeTypesTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setBoolean(pos++, data.isPkBooleanAttribute());
+		stm.setByte(pos++, data.getPkByteAttribute());
+		stm.setString(pos++, String.valueOf(data.getPkCharAttribute()));
+		stm.setDate(pos++, data.getPkDateAttribute());
+		stm.setTime(pos++, data.getPkTimeAttribute().convertToSql());
+		stm.setDouble(pos++, data.getPkDoubleAttribute());
+		stm.setFloat(pos++, data.getPkFloatAttribute());
+		stm.setInt(pos++, data.getPkIntAttribute());
+		stm.setLong(pos++, data.getPkLongAttribute());
+		stm.setShort(pos++, data.getPkShortAttribute());
+		stm.setString(pos++, data.getPkStringAttribute());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getPkTimestampAttribute(), false, conversionTimeZone);
+		pos++;
+		stm.setBigDecimal(pos++, data.getPkBigDecimalAttribute());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "BOOLEAN_PK = ? AND BYTE_PK = ? AND CHAR_PK = ? AND DATE_PK = ? AND TIME_PK = ? AND DOUBLE_PK = ? AND FLOAT_PK = ? AND INT_PK = ? AND LONG_PK = ? AND SHORT_PK = ? AND STRING_PK = ? AND TIMESTAMP_PK = ? AND BIGDECIMAL_PK = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.BOOLEAN_PK,t0.BYTE_PK,t0.CHAR_PK,t0.DATE_PK,t0.TIME_PK,t0.DOUBLE_PK,t0.FLOAT_PK,t0.INT_PK,t0.LONG_PK,t0.SHORT_PK,t0.STRING_PK,t0.TIMESTAMP_PK,t0.BIGDECIMAL_PK,t0.BOOLEAN_1,t0.BYTE_1,t0.CHAR_1,t0.DATE_1,t0.TIME_1,t0.DOUBLE_1,t0.FLOAT_1,t0.INT_1,t0.LONG_1,t0.SHORT_1,t0.STRING_1,t0.TIMESTAMP_1,t0.BIGDECIMAL_1,t0.BOOLEAN_0,t0.BYTE_0,t0.CHAR_0,t0.DATE_0,t0.TIME_0,t0.DOUBLE_0,t0.FLOAT_0,t0.INT_0,t0.LONG_0,t0.SHORT_0,t0.STRING_0,t0.TIMESTAMP_0";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*38);
+		result.append(databaseAlias).append(".").append("BOOLEAN_PK");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_PK");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_PK");
+		result.append(",").append(databaseAlias).append(".").append("DATE_PK");
+		result.append(",").append(databaseAlias).append(".").append("TIME_PK");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_PK");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_PK");
+		result.append(",").append(databaseAlias).append(".").append("INT_PK");
+		result.append(",").append(databaseAlias).append(".").append("LONG_PK");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_PK");
+		result.append(",").append(databaseAlias).append(".").append("STRING_PK");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_PK");
+		result.append(",").append(databaseAlias).append(".").append("BIGDECIMAL_PK");
+		result.append(",").append(databaseAlias).append(".").append("BOOLEAN_1");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_1");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_1");
+		result.append(",").append(databaseAlias).append(".").append("DATE_1");
+		result.append(",").append(databaseAlias).append(".").append("TIME_1");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_1");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_1");
+		result.append(",").append(databaseAlias).append(".").append("INT_1");
+		result.append(",").append(databaseAlias).append(".").append("LONG_1");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_1");
+		result.append(",").append(databaseAlias).append(".").append("STRING_1");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_1");
+		result.append(",").append(databaseAlias).append(".").append("BIGDECIMAL_1");
+		result.append(",").append(databaseAlias).append(".").append("BOOLEAN_0");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_0");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_0");
+		result.append(",").append(databaseAlias).append(".").append("DATE_0");
+		result.append(",").append(databaseAlias).append(".").append("TIME_0");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_0");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_0");
+		result.append(",").append(databaseAlias).append(".").append("INT_0");
+		result.append(",").append(databaseAlias).append(".").append("LONG_0");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_0");
+		result.append(",").append(databaseAlias).append(".").append("STRING_0");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_0");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public EvoType1TimeTypesData inflateEvoType1TimeTypesData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		EvoType1TimeTypesData data = inflateEvoType1TimeTypesPkData(rs, dt);
+		inflateNonPkEvoType1TimeTypesData(14, data, rs, dt);
+		return data;
+	}
+
+	public EvoType1TimeTypesData inflateEvoType1TimeTypesPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		EvoType1TimeTypesData _data = new EvoType1TimeTypesData();
+		int _pos = 1;
+		_data.setPkBooleanAttribute(_rs.getBoolean(_pos++));
+		checkNullPrimitive(_rs, _data, "pkBooleanAttribute");
+		_data.setPkByteAttribute(_rs.getByte(_pos++));
+		checkNullPrimitive(_rs, _data, "pkByteAttribute");
+		String pkCharAttributeCharValue = _rs.getString(_pos++);
+		boolean pkCharAttributeCharValueisNull = pkCharAttributeCharValue == null || pkCharAttributeCharValue.length() < 1;
+		if(!pkCharAttributeCharValueisNull)
+		{
+			if(pkCharAttributeCharValue.length() > 1)
+			{
+				throw new SQLException("attribute defined as char, but is more than one character long in database");
+			}
+			else if(pkCharAttributeCharValue.length() == 1)
+			{
+				_data.setPkCharAttribute(pkCharAttributeCharValue.charAt(0));
+			}
+		}
+		else
+		{
+			throw new MithraBusinessException("attribute ' pkCharAttribute ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+		}
+
+		_data.setPkDateAttribute(_rs.getDate(_pos++));
+		checkNullPrimitive(_rs, _data, "pkDateAttribute");
+		_data.setPkTimeAttribute(_dt.getTime(_rs, _pos++));
+		checkNullPrimitive(_rs, _data, "pkTimeAttribute");
+		_data.setPkDoubleAttribute(_rs.getDouble(_pos++));
+		checkNullPrimitive(_rs, _data, "pkDoubleAttribute");
+		_data.setPkFloatAttribute(_rs.getFloat(_pos++));
+		checkNullPrimitive(_rs, _data, "pkFloatAttribute");
+		_data.setPkIntAttribute(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "pkIntAttribute");
+		_data.setPkLongAttribute(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "pkLongAttribute");
+		_data.setPkShortAttribute(_rs.getShort(_pos++));
+		checkNullPrimitive(_rs, _data, "pkShortAttribute");
+		_data.setPkStringAttribute(trimString(_rs.getString(_pos++)));
+		Timestamp pkTimestampAttributetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setPkTimestampAttribute(pkTimestampAttributetimestampValue);
+		_data.setPkBigDecimalAttribute(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 2));
+		checkNullPrimitive(_rs, _data, "pkBigDecimalAttribute");
+		return _data;
+	}
+
+	public void inflateNonPkEvoType1TimeTypesData(int _pos, EvoType1TimeTypesData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			EvoType1TimeTypesData _data = _datax;
+			_data.setRootEvoBooleanAttribute(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoBooleanAttributeNull();
+			}
+
+			_data.setRootEvoByteAttribute(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoByteAttributeNull();
+			}
+
+			String rootEvoCharAttributeCharValue = _rs.getString(_pos++);
+			boolean rootEvoCharAttributeCharValueisNull = rootEvoCharAttributeCharValue == null || rootEvoCharAttributeCharValue.length() < 1;
+			if(!rootEvoCharAttributeCharValueisNull)
+			{
+				if(rootEvoCharAttributeCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(rootEvoCharAttributeCharValue.length() == 1)
+				{
+					_data.setRootEvoCharAttribute(rootEvoCharAttributeCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setRootEvoCharAttributeNull();
+			}
+
+			_data.setRootEvoDateAttribute(_rs.getDate(_pos++));
+			_data.setRootEvoTimeAttribute(_dt.getTime(_rs, _pos++));
+			_data.setRootEvoDoubleAttribute(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoDoubleAttributeNull();
+			}
+
+			_data.setRootEvoFloatAttribute(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoFloatAttributeNull();
+			}
+
+			_data.setRootEvoIntAttribute(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoIntAttributeNull();
+			}
+
+			_data.setRootEvoLongAttribute(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoLongAttributeNull();
+			}
+
+			_data.setRootEvoShortAttribute(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoShortAttributeNull();
+			}
+
+			_data.setRootEvoStringAttribute(trimString(_rs.getString(_pos++)));
+			Timestamp rootEvoTimestampAttributetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setRootEvoTimestampAttribute(rootEvoTimestampAttributetimestampValue);
+			_data.setRootEvoBigDecimalAttribute(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 18, 3));
+			_data.setBooleanAttribute(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBooleanAttributeNull();
+			}
+
+			_data.setByteAttribute(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setByteAttributeNull();
+			}
+
+			String charAttributeCharValue = _rs.getString(_pos++);
+			boolean charAttributeCharValueisNull = charAttributeCharValue == null || charAttributeCharValue.length() < 1;
+			if(!charAttributeCharValueisNull)
+			{
+				if(charAttributeCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(charAttributeCharValue.length() == 1)
+				{
+					_data.setCharAttribute(charAttributeCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setCharAttributeNull();
+			}
+
+			_data.setDateAttribute(_rs.getDate(_pos++));
+			_data.setTimeAttribute(_dt.getTime(_rs, _pos++));
+			_data.setDoubleAttribute(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDoubleAttributeNull();
+			}
+
+			_data.setFloatAttribute(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFloatAttributeNull();
+			}
+
+			_data.setIntAttribute(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setIntAttributeNull();
+			}
+
+			_data.setLongAttribute(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setLongAttributeNull();
+			}
+
+			_data.setShortAttribute(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setShortAttributeNull();
+			}
+
+			_data.setStringAttribute(trimString(_rs.getString(_pos++)));
+			Timestamp timestampAttributetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setTimestampAttribute(timestampAttributetimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "EVO_TYPE1_TIME_TYPES";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		EvoType1TimeTypesData data = (EvoType1TimeTypesData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if (data.isRootEvoBooleanAttributeNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isRootEvoBooleanAttribute());
+		}
+
+		if (data.isRootEvoByteAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getRootEvoByteAttribute());
+		}
+
+		if (data.isRootEvoCharAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getRootEvoCharAttribute()));
+		}
+
+		if (data.isRootEvoDateAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getRootEvoDateAttribute());
+		}
+
+		if (data.isRootEvoTimeAttributeNull())
+		{
+			dt.setTimeNull(stm, pos++);
+		}
+		else
+		{
+			dt.setTime(stm, pos++, data.getRootEvoTimeAttribute());
+		}
+
+		if (data.isRootEvoDoubleAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getRootEvoDoubleAttribute());
+		}
+
+		if (data.isRootEvoFloatAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getRootEvoFloatAttribute());
+		}
+
+		if (data.isRootEvoIntAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getRootEvoIntAttribute());
+		}
+
+		if (data.isRootEvoLongAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getRootEvoLongAttribute());
+		}
+
+		if (data.isRootEvoShortAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getRootEvoShortAttribute());
+		}
+
+		if (data.isRootEvoStringAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getRootEvoStringAttribute());
+		}
+
+		if (data.isRootEvoTimestampAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getRootEvoTimestampAttribute(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isRootEvoBigDecimalAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getRootEvoBigDecimalAttribute());
+		}
+
+		if (data.isBooleanAttributeNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isBooleanAttribute());
+		}
+
+		if (data.isByteAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getByteAttribute());
+		}
+
+		if (data.isCharAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getCharAttribute()));
+		}
+
+		if (data.isDateAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getDateAttribute());
+		}
+
+		if (data.isTimeAttributeNull())
+		{
+			dt.setTimeNull(stm, pos++);
+		}
+		else
+		{
+			dt.setTime(stm, pos++, data.getTimeAttribute());
+		}
+
+		if (data.isDoubleAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getDoubleAttribute());
+		}
+
+		if (data.isFloatAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getFloatAttribute());
+		}
+
+		if (data.isIntAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getIntAttribute());
+		}
+
+		if (data.isLongAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getLongAttribute());
+		}
+
+		if (data.isShortAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getShortAttribute());
+		}
+
+		if (data.isStringAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getStringAttribute());
+		}
+
+		if (data.isTimestampAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getTimestampAttribute(), false, conversionTimeZone);
+			pos++;
+		}
+
+		stm.setBoolean(pos++, data.isPkBooleanAttribute());
+		stm.setByte(pos++, data.getPkByteAttribute());
+		stm.setString(pos++, String.valueOf(data.getPkCharAttribute()));
+		if(data.isPkDateAttributeNull())
+		{
+			throwNullAttribute("pkDateAttribute");
+		}
+
+		stm.setDate(pos++, data.getPkDateAttribute());
+		if(data.isPkTimeAttributeNull())
+		{
+			throwNullAttribute("pkTimeAttribute");
+		}
+
+		dt.setTime(stm, pos++, data.getPkTimeAttribute());
+		stm.setDouble(pos++, data.getPkDoubleAttribute());
+		stm.setFloat(pos++, data.getPkFloatAttribute());
+		stm.setInt(pos++, data.getPkIntAttribute());
+		stm.setLong(pos++, data.getPkLongAttribute());
+		stm.setShort(pos++, data.getPkShortAttribute());
+		if(data.isPkStringAttributeNull())
+		{
+			throwNullAttribute("pkStringAttribute");
+		}
+
+		stm.setString(pos++, data.getPkStringAttribute());
+		if(data.isPkTimestampAttributeNull())
+		{
+			throwNullAttribute("pkTimestampAttribute");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getPkTimestampAttribute(), false, conversionTimeZone);
+		pos++;
+		if(data.isPkBigDecimalAttributeNull())
+		{
+			throwNullAttribute("pkBigDecimalAttribute");
+		}
+
+		stm.setBigDecimal(pos++, data.getPkBigDecimalAttribute());
+	}
+
+	public String getInsertFields()
+	{
+		return "BOOLEAN_1,BYTE_1,CHAR_1,DATE_1,TIME_1,DOUBLE_1,FLOAT_1,INT_1,LONG_1,SHORT_1,STRING_1,TIMESTAMP_1,BIGDECIMAL_1,BOOLEAN_0,BYTE_0,CHAR_0,DATE_0,TIME_0,DOUBLE_0,FLOAT_0,INT_0,LONG_0,SHORT_0,STRING_0,TIMESTAMP_0,BOOLEAN_PK,BYTE_PK,CHAR_PK,DATE_PK,TIME_PK,DOUBLE_PK,FLOAT_PK,INT_PK,LONG_PK,SHORT_PK,STRING_PK,TIMESTAMP_PK,BIGDECIMAL_PK";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		EvoType1TimeTypes newObject = new EvoType1TimeTypes();
+		newObject.zSetFromEvoType1TimeTypesData((EvoType1TimeTypesData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.BOOLEAN_PK,t0.BYTE_PK,t0.CHAR_PK,t0.DATE_PK,t0.TIME_PK,t0.DOUBLE_PK,t0.FLOAT_PK,t0.INT_PK,t0.LONG_PK,t0.SHORT_PK,t0.STRING_PK,t0.TIMESTAMP_PK,t0.BIGDECIMAL_PK";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*38);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("BOOLEAN_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("BYTE_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("CHAR_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DATE_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("TIME_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DOUBLE_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("FLOAT_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("INT_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("LONG_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SHORT_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("STRING_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("TIMESTAMP_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("BIGDECIMAL_PK");
+		return result.toString();
+	}
+}
@@ -0,0 +1,2854 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EvoType1TimeTypesFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/evo/EvoType1TimeTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.evo.EvoType1TimeTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1TimeTypes");
+	private static final EvoType1TimeTypesSingleFinder<EvoType1TimeTypes, Object, EvoType1TimeTypes> finder = new EvoType1TimeTypesSingleFinder<EvoType1TimeTypes, Object, EvoType1TimeTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(EvoType1TimeTypesFinder.EvoType1TimeTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("rootEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoTimeAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("booleanAttribute");
+		finderMethodMap.addNormalAttributeName("byteAttribute");
+		finderMethodMap.addNormalAttributeName("charAttribute");
+		finderMethodMap.addNormalAttributeName("dateAttribute");
+		finderMethodMap.addNormalAttributeName("timeAttribute");
+		finderMethodMap.addNormalAttributeName("doubleAttribute");
+		finderMethodMap.addNormalAttributeName("floatAttribute");
+		finderMethodMap.addNormalAttributeName("intAttribute");
+		finderMethodMap.addNormalAttributeName("longAttribute");
+		finderMethodMap.addNormalAttributeName("shortAttribute");
+		finderMethodMap.addNormalAttributeName("stringAttribute");
+		finderMethodMap.addNormalAttributeName("timestampAttribute");
+		finderMethodMap.addNormalAttributeName("pkBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("pkByteAttribute");
+		finderMethodMap.addNormalAttributeName("pkCharAttribute");
+		finderMethodMap.addNormalAttributeName("pkDateAttribute");
+		finderMethodMap.addNormalAttributeName("pkTimeAttribute");
+		finderMethodMap.addNormalAttributeName("pkDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("pkFloatAttribute");
+		finderMethodMap.addNormalAttributeName("pkIntAttribute");
+		finderMethodMap.addNormalAttributeName("pkLongAttribute");
+		finderMethodMap.addNormalAttributeName("pkShortAttribute");
+		finderMethodMap.addNormalAttributeName("pkStringAttribute");
+		finderMethodMap.addNormalAttributeName("pkTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("pkBigDecimalAttribute");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static EvoType1TimeTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static EvoType1TimeTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static EvoType1TimeTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1TimeTypesList) finder.findMany(operation);
+	}
+
+	public static EvoType1TimeTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1TimeTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static EvoType1TimeTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (EvoType1TimeTypes) FinderUtils.findOne(found);
+	}
+
+	public static EvoType1TimeTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, Time pkTimeAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute)
+	{
+		return finder.findByPrimaryKey(pkBooleanAttribute, pkByteAttribute, pkCharAttribute, pkDateAttribute, pkTimeAttribute, pkDoubleAttribute, pkFloatAttribute, pkIntAttribute, pkLongAttribute, pkShortAttribute, pkStringAttribute, pkTimestampAttribute, pkBigDecimalAttribute);
+	}
+
+	public static EvoType1TimeTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (EvoType1TimeTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class EvoType1TimeTypesPkAttribute extends EvoTypesTime.ManagedEvoTypesTimeAttribute
+	{
+		private final EvoType1TimeTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1TimeTypesPkAttribute(EvoType1TimeTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1TimeTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesTime.class;
+		}
+
+		public EvoTypesTime evoTypesTimeValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TimeTypes) o).getPk();
+		}
+
+		public void setEvoTypesTimeValue(Object o, EvoTypesTime newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1TimeTypes) o).copyPk(newValue);
+		}
+
+		public void setEvoTypesTimeValueUntil(Object o, EvoTypesTime newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesTimeValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.pkBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.pkByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.pkCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.pkDateAttribute();
+		}
+
+		public TimeAttribute timeAttribute()
+		{
+			return this.finder.pkTimeAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.pkDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.pkFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.pkIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.pkLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.pkShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.pkStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.pkTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.pkBigDecimalAttribute();
+		}
+
+		protected EvoTypesTime.ManagedEvoTypesTimeAttribute retrieveAttribute()
+		{
+			return this.finder.pk();
+		}
+	}
+
+	public static class EvoType1TimeTypesRootEvoAttribute extends EvoTypesRootWithTime.ManagedEvoTypesRootWithTimeAttribute
+	{
+		private final EvoType1TimeTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1TimeTypesRootEvoAttribute(EvoType1TimeTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1TimeTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesRootWithTime.class;
+		}
+
+		public EvoTypesRootWithTime evoTypesRootWithTimeValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TimeTypes) o).getRootEvo();
+		}
+
+		public void setEvoTypesRootWithTimeValue(Object o, EvoTypesRootWithTime newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1TimeTypes) o).copyRootEvo(newValue);
+		}
+
+		public void setEvoTypesRootWithTimeValueUntil(Object o, EvoTypesRootWithTime newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesRootWithTimeValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoDateAttribute();
+		}
+
+		public TimeAttribute timeAttribute()
+		{
+			return this.finder.rootEvoTimeAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoBigDecimalAttribute();
+		}
+
+		protected EvoTypesRootWithTime.ManagedEvoTypesRootWithTimeAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo();
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1TimeTypesRootEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_1","","rootEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isRootEvoBooleanAttribute();
+			return ((EvoType1TimeTypes) o).isRootEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isRootEvoBooleanAttributeNull();
+			return ((EvoType1TimeTypes) o).isRootEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1TimeTypesRootEvoByteAttributeAttribute()
+		{
+			super("BYTE_1","","rootEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoByteAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isRootEvoByteAttributeNull();
+			return ((EvoType1TimeTypes) o).isRootEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1TimeTypesRootEvoCharAttributeAttribute()
+		{
+			super("CHAR_1","","rootEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoCharAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isRootEvoCharAttributeNull();
+			return ((EvoType1TimeTypes) o).isRootEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1TimeTypesRootEvoDateAttributeAttribute()
+		{
+			super("DATE_1","","rootEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoDateAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoTimeAttributeAttribute extends SingleColumnTimeAttribute
+	{
+		public EvoType1TimeTypesRootEvoTimeAttributeAttribute()
+		{
+			super("TIME_1","","rootEvoTimeAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public Time timeValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoTimeAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoTimeAttribute();
+		}
+
+		public void setTimeValue(Object o, Time newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoTimeAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoTimeAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Time newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1TimeTypesRootEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_1","","rootEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoDoubleAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isRootEvoDoubleAttributeNull();
+			return ((EvoType1TimeTypes) o).isRootEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1TimeTypesRootEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_1","","rootEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoFloatAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isRootEvoFloatAttributeNull();
+			return ((EvoType1TimeTypes) o).isRootEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1TimeTypesRootEvoIntAttributeAttribute()
+		{
+			super("INT_1","","rootEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoIntAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isRootEvoIntAttributeNull();
+			return ((EvoType1TimeTypes) o).isRootEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1TimeTypesRootEvoLongAttributeAttribute()
+		{
+			super("LONG_1","","rootEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoLongAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isRootEvoLongAttributeNull();
+			return ((EvoType1TimeTypes) o).isRootEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1TimeTypesRootEvoShortAttributeAttribute()
+		{
+			super("SHORT_1","","rootEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoShortAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isRootEvoShortAttributeNull();
+			return ((EvoType1TimeTypes) o).isRootEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1TimeTypesRootEvoStringAttributeAttribute()
+		{
+			super("STRING_1","","rootEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoStringAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1TimeTypesRootEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_1","","rootEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoTimestampAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TimeTypesRootEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1TimeTypesRootEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_1","","rootEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getRootEvoBigDecimalAttribute();
+			return ((EvoType1TimeTypes) o).getRootEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1TimeTypesPkBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_PK","","pkBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).isPkBooleanAttribute();
+			return ((EvoType1TimeTypes) o).isPkBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1TimeTypesPkByteAttributeAttribute()
+		{
+			super("BYTE_PK","","pkByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkByteAttribute();
+			return ((EvoType1TimeTypes) o).getPkByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1TimeTypesPkCharAttributeAttribute()
+		{
+			super("CHAR_PK","","pkCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkCharAttribute();
+			return ((EvoType1TimeTypes) o).getPkCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1TimeTypesPkDateAttributeAttribute()
+		{
+			super("DATE_PK","","pkDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkDateAttribute();
+			return ((EvoType1TimeTypes) o).getPkDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkTimeAttributeAttribute extends SingleColumnTimeAttribute
+	{
+		public EvoType1TimeTypesPkTimeAttributeAttribute()
+		{
+			super("TIME_PK","","pkTimeAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public Time timeValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkTimeAttribute();
+			return ((EvoType1TimeTypes) o).getPkTimeAttribute();
+		}
+
+		public void setTimeValue(Object o, Time newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkTimeAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkTimeAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Time newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1TimeTypesPkDoubleAttributeAttribute()
+		{
+			super("DOUBLE_PK","","pkDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkDoubleAttribute();
+			return ((EvoType1TimeTypes) o).getPkDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1TimeTypesPkFloatAttributeAttribute()
+		{
+			super("FLOAT_PK","","pkFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkFloatAttribute();
+			return ((EvoType1TimeTypes) o).getPkFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1TimeTypesPkIntAttributeAttribute()
+		{
+			super("INT_PK","","pkIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkIntAttribute();
+			return ((EvoType1TimeTypes) o).getPkIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1TimeTypesPkLongAttributeAttribute()
+		{
+			super("LONG_PK","","pkLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkLongAttribute();
+			return ((EvoType1TimeTypes) o).getPkLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1TimeTypesPkShortAttributeAttribute()
+		{
+			super("SHORT_PK","","pkShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkShortAttribute();
+			return ((EvoType1TimeTypes) o).getPkShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1TimeTypesPkStringAttributeAttribute()
+		{
+			super("STRING_PK","","pkStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkStringAttribute();
+			return ((EvoType1TimeTypes) o).getPkStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1TimeTypesPkTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_PK","","pkTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkTimestampAttribute();
+			return ((EvoType1TimeTypes) o).getPkTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TimeTypesPkBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1TimeTypesPkBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_PK","","pkBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1TimeTypesData) return ((EvoType1TimeTypesData) o).getPkBigDecimalAttribute();
+			return ((EvoType1TimeTypes) o).getPkBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1TimeTypesData)
+			{
+				((EvoType1TimeTypesData) o).setPkBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TimeTypes) o).setPkBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	public static class EvoType1TimeTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<EvoType1TimeTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType> implements EvoTypeTimeFinder<EvoType1TimeTypes>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoDateAttribute;
+		private TimeAttribute<ParentOwnerType> rootEvoTimeAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> booleanAttribute;
+		private ByteAttribute<ParentOwnerType> byteAttribute;
+		private CharAttribute<ParentOwnerType> charAttribute;
+		private DateAttribute<ParentOwnerType> dateAttribute;
+		private TimeAttribute<ParentOwnerType> timeAttribute;
+		private DoubleAttribute<ParentOwnerType> doubleAttribute;
+		private FloatAttribute<ParentOwnerType> floatAttribute;
+		private IntegerAttribute<ParentOwnerType> intAttribute;
+		private LongAttribute<ParentOwnerType> longAttribute;
+		private ShortAttribute<ParentOwnerType> shortAttribute;
+		private StringAttribute<ParentOwnerType> stringAttribute;
+		private TimestampAttribute<ParentOwnerType> timestampAttribute;
+		private BooleanAttribute<ParentOwnerType> pkBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> pkByteAttribute;
+		private CharAttribute<ParentOwnerType> pkCharAttribute;
+		private DateAttribute<ParentOwnerType> pkDateAttribute;
+		private TimeAttribute<ParentOwnerType> pkTimeAttribute;
+		private DoubleAttribute<ParentOwnerType> pkDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> pkFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> pkIntAttribute;
+		private LongAttribute<ParentOwnerType> pkLongAttribute;
+		private ShortAttribute<ParentOwnerType> pkShortAttribute;
+		private StringAttribute<ParentOwnerType> pkStringAttribute;
+		private TimestampAttribute<ParentOwnerType> pkTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute;
+		private EvoTypesTime.ManagedEvoTypesTimeAttribute pk;
+		private EvoTypesRootWithTime.ManagedEvoTypesRootWithTimeAttribute rootEvo;
+		public EvoType1TimeTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public EvoType1TimeTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.evo.EvoType1TimeTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return EvoType1TimeTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return EvoType1TimeTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return EvoType1TimeTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[38];
+			attributes[0] = this.rootEvoBooleanAttribute();
+			attributes[1] = this.rootEvoByteAttribute();
+			attributes[2] = this.rootEvoCharAttribute();
+			attributes[3] = this.rootEvoDateAttribute();
+			attributes[4] = this.rootEvoTimeAttribute();
+			attributes[5] = this.rootEvoDoubleAttribute();
+			attributes[6] = this.rootEvoFloatAttribute();
+			attributes[7] = this.rootEvoIntAttribute();
+			attributes[8] = this.rootEvoLongAttribute();
+			attributes[9] = this.rootEvoShortAttribute();
+			attributes[10] = this.rootEvoStringAttribute();
+			attributes[11] = this.rootEvoTimestampAttribute();
+			attributes[12] = this.rootEvoBigDecimalAttribute();
+			attributes[13] = this.booleanAttribute();
+			attributes[14] = this.byteAttribute();
+			attributes[15] = this.charAttribute();
+			attributes[16] = this.dateAttribute();
+			attributes[17] = this.timeAttribute();
+			attributes[18] = this.doubleAttribute();
+			attributes[19] = this.floatAttribute();
+			attributes[20] = this.intAttribute();
+			attributes[21] = this.longAttribute();
+			attributes[22] = this.shortAttribute();
+			attributes[23] = this.stringAttribute();
+			attributes[24] = this.timestampAttribute();
+			attributes[25] = this.pkBooleanAttribute();
+			attributes[26] = this.pkByteAttribute();
+			attributes[27] = this.pkCharAttribute();
+			attributes[28] = this.pkDateAttribute();
+			attributes[29] = this.pkTimeAttribute();
+			attributes[30] = this.pkDoubleAttribute();
+			attributes[31] = this.pkFloatAttribute();
+			attributes[32] = this.pkIntAttribute();
+			attributes[33] = this.pkLongAttribute();
+			attributes[34] = this.pkShortAttribute();
+			attributes[35] = this.pkStringAttribute();
+			attributes[36] = this.pkTimestampAttribute();
+			attributes[37] = this.pkBigDecimalAttribute();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public EvoType1TimeTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1TimeTypesFinder.findOne(operation, false);
+		}
+
+		public EvoType1TimeTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1TimeTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends EvoType1TimeTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new EvoType1TimeTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends EvoType1TimeTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			EvoType1TimeTypesList result = (EvoType1TimeTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends EvoType1TimeTypes> constructEmptyList()
+		{
+			return new EvoType1TimeTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1891975320;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public EvoTypesTime.ManagedEvoTypesTimeAttribute pk()
+		{
+			EvoTypesTime.ManagedEvoTypesTimeAttribute result = this.pk;
+			if (result == null)
+			{
+				result = new EvoType1TimeTypesPkAttribute(this, this.zGetValueSelector());
+			}
+
+			this.pk = result;
+			return result;
+		}
+
+		public EvoTypesRootWithTime.ManagedEvoTypesRootWithTimeAttribute rootEvo()
+		{
+			EvoTypesRootWithTime.ManagedEvoTypesRootWithTimeAttribute result = this.rootEvo;
+			if (result == null)
+			{
+				result = new EvoType1TimeTypesRootEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvo = result;
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1TimeTypesFinder.rootEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1TimeTypesFinder.rootEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1TimeTypesFinder.rootEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1TimeTypesFinder.rootEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimeAttribute<ParentOwnerType> rootEvoTimeAttribute()
+		{
+			TimeAttribute<ParentOwnerType> result = this.rootEvoTimeAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoTimeAttributeAttribute():
+					new MappedTimeAttribute(EvoType1TimeTypesFinder.rootEvoTimeAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoTimeAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1TimeTypesFinder.rootEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1TimeTypesFinder.rootEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1TimeTypesFinder.rootEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1TimeTypesFinder.rootEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1TimeTypesFinder.rootEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1TimeTypesFinder.rootEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1TimeTypesFinder.rootEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesRootEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1TimeTypesFinder.rootEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOLEAN_0","","booleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(EvoType1TimeTypesFinder.booleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.booleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_0","","byteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(EvoType1TimeTypesFinder.byteAttribute(), this.mapper, this.zGetValueSelector());
+				this.byteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.charAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_0","","charAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(EvoType1TimeTypesFinder.charAttribute(), this.mapper, this.zGetValueSelector());
+				this.charAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> dateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.dateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATE_0","","dateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(EvoType1TimeTypesFinder.dateAttribute(), this.mapper, this.zGetValueSelector());
+				this.dateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimeAttribute<ParentOwnerType> timeAttribute()
+		{
+			TimeAttribute<ParentOwnerType> result = this.timeAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimeAttribute.generate("TIME_0","","timeAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedTimeAttribute(EvoType1TimeTypesFinder.timeAttribute(), this.mapper, this.zGetValueSelector());
+				this.timeAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_0","","doubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(EvoType1TimeTypesFinder.doubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.doubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_0","","floatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(EvoType1TimeTypesFinder.floatAttribute(), this.mapper, this.zGetValueSelector());
+				this.floatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_0","","intAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(EvoType1TimeTypesFinder.intAttribute(), this.mapper, this.zGetValueSelector());
+				this.intAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.longAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_0","","longAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(EvoType1TimeTypesFinder.longAttribute(), this.mapper, this.zGetValueSelector());
+				this.longAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_0","","shortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(EvoType1TimeTypesFinder.shortAttribute(), this.mapper, this.zGetValueSelector());
+				this.shortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> stringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.stringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STRING_0","","stringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(EvoType1TimeTypesFinder.stringAttribute(), this.mapper, this.zGetValueSelector());
+				this.stringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> timestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.timestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TIMESTAMP_0","","timestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1TimeTypesFinder.timestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.timestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> pkBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.pkBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1TimeTypesFinder.pkBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> pkByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.pkByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1TimeTypesFinder.pkByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> pkCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.pkCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1TimeTypesFinder.pkCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> pkDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.pkDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1TimeTypesFinder.pkDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimeAttribute<ParentOwnerType> pkTimeAttribute()
+		{
+			TimeAttribute<ParentOwnerType> result = this.pkTimeAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkTimeAttributeAttribute():
+					new MappedTimeAttribute(EvoType1TimeTypesFinder.pkTimeAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkTimeAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> pkDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.pkDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1TimeTypesFinder.pkDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> pkFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.pkFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1TimeTypesFinder.pkFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> pkIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.pkIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1TimeTypesFinder.pkIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> pkLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.pkLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1TimeTypesFinder.pkLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> pkShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.pkShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1TimeTypesFinder.pkShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> pkStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.pkStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1TimeTypesFinder.pkStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> pkTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.pkTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1TimeTypesFinder.pkTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.pkBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TimeTypesPkBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1TimeTypesFinder.pkBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return EvoType1TimeTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return EvoType1TimeTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class EvoType1TimeTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends EvoType1TimeTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1TimeTypesList, OwnerType>
+	{
+		public EvoType1TimeTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class EvoType1TimeTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends EvoType1TimeTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1TimeTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class EvoType1TimeTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends EvoType1TimeTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1TimeTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public EvoType1TimeTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public EvoType1TimeTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(EvoType1TimeTypes other)
+		{
+			return this.pkBooleanAttribute().eq(other.isPkBooleanAttribute())
+			.and(this.pkByteAttribute().eq(other.getPkByteAttribute()))
+			.and(this.pkCharAttribute().eq(other.getPkCharAttribute()))
+			.and(this.pkDateAttribute().eq(other.getPkDateAttribute()))
+			.and(this.pkTimeAttribute().eq(other.getPkTimeAttribute()))
+			.and(this.pkDoubleAttribute().eq(other.getPkDoubleAttribute()))
+			.and(this.pkFloatAttribute().eq(other.getPkFloatAttribute()))
+			.and(this.pkIntAttribute().eq(other.getPkIntAttribute()))
+			.and(this.pkLongAttribute().eq(other.getPkLongAttribute()))
+			.and(this.pkShortAttribute().eq(other.getPkShortAttribute()))
+			.and(this.pkStringAttribute().eq(other.getPkStringAttribute()))
+			.and(this.pkTimestampAttribute().eq(other.getPkTimestampAttribute()))
+			.and(this.pkBigDecimalAttribute().eq(other.getPkBigDecimalAttribute()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public EvoType1TimeTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, Time pkTimeAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute)
+		{
+			EvoType1TimeTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (!(_related instanceof NulledRelation)) _result = (EvoType1TimeTypes) _related;
+			if (_related == null)
+			{
+				_op = this.pkBooleanAttribute().eq(pkBooleanAttribute).and(this.pkByteAttribute().eq(pkByteAttribute)).and(this.pkCharAttribute().eq(pkCharAttribute)).and(this.pkDateAttribute().eq(pkDateAttribute)).and(this.pkTimeAttribute().eq(pkTimeAttribute)).and(this.pkDoubleAttribute().eq(pkDoubleAttribute)).and(this.pkFloatAttribute().eq(pkFloatAttribute)).and(this.pkIntAttribute().eq(pkIntAttribute)).and(this.pkLongAttribute().eq(pkLongAttribute)).and(this.pkShortAttribute().eq(pkShortAttribute)).and(this.pkStringAttribute().eq(pkStringAttribute)).and(this.pkTimestampAttribute().eq(pkTimestampAttribute)).and(this.pkBigDecimalAttribute().eq(pkBigDecimalAttribute));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class EvoType1TimeTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends EvoType1TimeTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1TimeTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static EvoTypesTime.ManagedEvoTypesTimeAttribute pk()
+	{
+		return finder.pk();
+	}
+
+	public static EvoTypesRootWithTime.ManagedEvoTypesRootWithTimeAttribute rootEvo()
+	{
+		return finder.rootEvo();
+	}
+
+	public static BooleanAttribute<EvoType1TimeTypes> rootEvoBooleanAttribute()
+	{
+		return finder.rootEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1TimeTypes> rootEvoByteAttribute()
+	{
+		return finder.rootEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1TimeTypes> rootEvoCharAttribute()
+	{
+		return finder.rootEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1TimeTypes> rootEvoDateAttribute()
+	{
+		return finder.rootEvoDateAttribute();
+	}
+
+	public static TimeAttribute<EvoType1TimeTypes> rootEvoTimeAttribute()
+	{
+		return finder.rootEvoTimeAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1TimeTypes> rootEvoDoubleAttribute()
+	{
+		return finder.rootEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1TimeTypes> rootEvoFloatAttribute()
+	{
+		return finder.rootEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1TimeTypes> rootEvoIntAttribute()
+	{
+		return finder.rootEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1TimeTypes> rootEvoLongAttribute()
+	{
+		return finder.rootEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1TimeTypes> rootEvoShortAttribute()
+	{
+		return finder.rootEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1TimeTypes> rootEvoStringAttribute()
+	{
+		return finder.rootEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1TimeTypes> rootEvoTimestampAttribute()
+	{
+		return finder.rootEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1TimeTypes> rootEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoBigDecimalAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.BOOLEAN_0 **/
+	public static BooleanAttribute<EvoType1TimeTypes> booleanAttribute()
+	{
+		return finder.booleanAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.BYTE_0 **/
+	public static ByteAttribute<EvoType1TimeTypes> byteAttribute()
+	{
+		return finder.byteAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.CHAR_0 **/
+	public static CharAttribute<EvoType1TimeTypes> charAttribute()
+	{
+		return finder.charAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.DATE_0 **/
+	public static DateAttribute<EvoType1TimeTypes> dateAttribute()
+	{
+		return finder.dateAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.TIME_0 **/
+	public static TimeAttribute<EvoType1TimeTypes> timeAttribute()
+	{
+		return finder.timeAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.DOUBLE_0 **/
+	public static DoubleAttribute<EvoType1TimeTypes> doubleAttribute()
+	{
+		return finder.doubleAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.FLOAT_0 **/
+	public static FloatAttribute<EvoType1TimeTypes> floatAttribute()
+	{
+		return finder.floatAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.INT_0 **/
+	public static IntegerAttribute<EvoType1TimeTypes> intAttribute()
+	{
+		return finder.intAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.LONG_0 **/
+	public static LongAttribute<EvoType1TimeTypes> longAttribute()
+	{
+		return finder.longAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.SHORT_0 **/
+	public static ShortAttribute<EvoType1TimeTypes> shortAttribute()
+	{
+		return finder.shortAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.STRING_0 **/
+	public static StringAttribute<EvoType1TimeTypes> stringAttribute()
+	{
+		return finder.stringAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TIME_TYPES.TIMESTAMP_0 **/
+	public static TimestampAttribute<EvoType1TimeTypes> timestampAttribute()
+	{
+		return finder.timestampAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1TimeTypes> pkBooleanAttribute()
+	{
+		return finder.pkBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1TimeTypes> pkByteAttribute()
+	{
+		return finder.pkByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1TimeTypes> pkCharAttribute()
+	{
+		return finder.pkCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1TimeTypes> pkDateAttribute()
+	{
+		return finder.pkDateAttribute();
+	}
+
+	public static TimeAttribute<EvoType1TimeTypes> pkTimeAttribute()
+	{
+		return finder.pkTimeAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1TimeTypes> pkDoubleAttribute()
+	{
+		return finder.pkDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1TimeTypes> pkFloatAttribute()
+	{
+		return finder.pkFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1TimeTypes> pkIntAttribute()
+	{
+		return finder.pkIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1TimeTypes> pkLongAttribute()
+	{
+		return finder.pkLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1TimeTypes> pkShortAttribute()
+	{
+		return finder.pkShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1TimeTypes> pkStringAttribute()
+	{
+		return finder.pkStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1TimeTypes> pkTimestampAttribute()
+	{
+		return finder.pkTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1TimeTypes> pkBigDecimalAttribute()
+	{
+		return finder.pkBigDecimalAttribute();
+	}
+
+	public static Operation eq(EvoType1TimeTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(pkBooleanAttribute());
+	}
+
+	public static EvoType1TimeTypesSingleFinder<EvoType1TimeTypes, Object, EvoType1TimeTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkTimeAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			rootEvoBooleanAttribute()
+			, pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkTimeAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[3];
+		result[0] = rootEvoDoubleAttribute();
+		result[1] = doubleAttribute();
+		result[2] = pkDoubleAttribute();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[2];
+		result[0] = rootEvoBigDecimalAttribute();
+		result[1] = pkBigDecimalAttribute();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1TimeTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,405 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class EvoType1TimeTypesListAbstract extends DelegatingList<EvoType1TimeTypes> implements MithraTransactionalList<EvoType1TimeTypes>
+{
+	public EvoType1TimeTypesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public EvoType1TimeTypesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public EvoType1TimeTypesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public EvoType1TimeTypesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public EvoType1TimeTypes[] elements()
+	{
+		EvoType1TimeTypes[] result = new EvoType1TimeTypes[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public EvoType1TimeTypesList intersection(EvoType1TimeTypesList another)
+	{
+		return (EvoType1TimeTypesList)super.intersection(another);
+	}
+
+	public EvoType1TimeTypes getEvoType1TimeTypesAt(int index)
+	{
+		return (EvoType1TimeTypes)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EvoType1TimeTypesFinder.getMithraObjectPortal();
+	}
+
+	public EvoType1TimeTypesList getNonPersistentCopy()
+	{
+		EvoType1TimeTypesList result = new EvoType1TimeTypesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public EvoType1TimeTypesList asAdhoc()
+	{
+		return (EvoType1TimeTypesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<EvoType1TimeTypes> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public EvoType1TimeTypesList merge(MithraTransactionalList<EvoType1TimeTypes> incoming, TopLevelMergeOptions<EvoType1TimeTypes> mergeOptions)
+	{
+		return (EvoType1TimeTypesList) super.merge(incoming, mergeOptions);
+	}
+
+	public EvoType1TimeTypesList getDetachedCopy()
+	{
+		EvoType1TimeTypesList result = new EvoType1TimeTypesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TimeTypesFinder.rootEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TimeTypesFinder.rootEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TimeTypesFinder.rootEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TimeTypesFinder.rootEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoTimeAttribute(Time newValue)
+	{
+		zSetTime(EvoType1TimeTypesFinder.rootEvoTimeAttribute(), newValue);
+	}
+
+	public void setRootEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TimeTypesFinder.rootEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TimeTypesFinder.rootEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TimeTypesFinder.rootEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TimeTypesFinder.rootEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TimeTypesFinder.rootEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType1TimeTypesFinder.rootEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TimeTypesFinder.rootEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1TimeTypesFinder.rootEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TimeTypesFinder.booleanAttribute(), newValue);
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TimeTypesFinder.byteAttribute(), newValue);
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TimeTypesFinder.charAttribute(), newValue);
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TimeTypesFinder.dateAttribute(), newValue);
+	}
+
+	public void setTimeAttribute(Time newValue)
+	{
+		zSetTime(EvoType1TimeTypesFinder.timeAttribute(), newValue);
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TimeTypesFinder.doubleAttribute(), newValue);
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TimeTypesFinder.floatAttribute(), newValue);
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TimeTypesFinder.intAttribute(), newValue);
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TimeTypesFinder.longAttribute(), newValue);
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TimeTypesFinder.shortAttribute(), newValue);
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		zSetString(EvoType1TimeTypesFinder.stringAttribute(), newValue);
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TimeTypesFinder.timestampAttribute(), newValue);
+	}
+
+	public void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TimeTypesFinder.pkBooleanAttribute(), newValue);
+	}
+
+	public void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TimeTypesFinder.pkByteAttribute(), newValue);
+	}
+
+	public void setPkCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TimeTypesFinder.pkCharAttribute(), newValue);
+	}
+
+	public void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TimeTypesFinder.pkDateAttribute(), newValue);
+	}
+
+	public void setPkTimeAttribute(Time newValue)
+	{
+		zSetTime(EvoType1TimeTypesFinder.pkTimeAttribute(), newValue);
+	}
+
+	public void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TimeTypesFinder.pkDoubleAttribute(), newValue);
+	}
+
+	public void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TimeTypesFinder.pkFloatAttribute(), newValue);
+	}
+
+	public void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TimeTypesFinder.pkIntAttribute(), newValue);
+	}
+
+	public void setPkLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TimeTypesFinder.pkLongAttribute(), newValue);
+	}
+
+	public void setPkShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TimeTypesFinder.pkShortAttribute(), newValue);
+	}
+
+	public void setPkStringAttribute(String newValue)
+	{
+		zSetString(EvoType1TimeTypesFinder.pkStringAttribute(), newValue);
+	}
+
+	public void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TimeTypesFinder.pkTimestampAttribute(), newValue);
+	}
+
+	public void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1TimeTypesFinder.pkBigDecimalAttribute(), newValue);
+	}
+
+	public void copyPk(EvoTypesTime newValue)
+	{
+		zSetEvoValue(EvoType1TimeTypesFinder.pk(), newValue);
+	}
+
+	public void copyRootEvo(EvoTypesRootWithTime newValue)
+	{
+		zSetEvoValue(EvoType1TimeTypesFinder.rootEvo(), newValue);
+	}
+
+	public void setRootEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.rootEvoBooleanAttribute());
+	}
+
+	public void setRootEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.rootEvoByteAttribute());
+	}
+
+	public void setRootEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.rootEvoCharAttribute());
+	}
+
+	public void setRootEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.rootEvoDoubleAttribute());
+	}
+
+	public void setRootEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.rootEvoFloatAttribute());
+	}
+
+	public void setRootEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.rootEvoIntAttribute());
+	}
+
+	public void setRootEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.rootEvoLongAttribute());
+	}
+
+	public void setRootEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.rootEvoShortAttribute());
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.booleanAttribute());
+	}
+
+	public void setByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.byteAttribute());
+	}
+
+	public void setCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.charAttribute());
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.doubleAttribute());
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.floatAttribute());
+	}
+
+	public void setIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.intAttribute());
+	}
+
+	public void setLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.longAttribute());
+	}
+
+	public void setShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TimeTypesFinder.shortAttribute());
+	}
+}
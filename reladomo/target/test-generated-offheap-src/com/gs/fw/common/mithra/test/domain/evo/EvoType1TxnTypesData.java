@@ -0,0 +1,2283 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EvoType1TxnTypesData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private long isNullBits0 = 0;
+	private boolean booleanAttribute;
+	private byte byteAttribute;
+	private char charAttribute;
+	private Date dateAttribute;
+	private double doubleAttribute;
+	private float floatAttribute;
+	private int intAttribute;
+	private long longAttribute;
+	private BigDecimal pkBigDecimalAttribute;
+	private boolean pkBooleanAttribute;
+	private byte pkByteAttribute;
+	private char pkCharAttribute;
+	private Date pkDateAttribute;
+	private double pkDoubleAttribute;
+	private float pkFloatAttribute;
+	private int pkIntAttribute;
+	private long pkLongAttribute;
+	private short pkShortAttribute;
+	private String pkStringAttribute;
+	private Timestamp pkTimestampAttribute;
+	private BigDecimal rootEvoBigDecimalAttribute;
+	private boolean rootEvoBooleanAttribute;
+	private byte rootEvoByteAttribute;
+	private char rootEvoCharAttribute;
+	private Date rootEvoDateAttribute;
+	private double rootEvoDoubleAttribute;
+	private float rootEvoFloatAttribute;
+	private int rootEvoIntAttribute;
+	private long rootEvoLongAttribute;
+	private BigDecimal rootEvoNestedEvoBigDecimalAttribute;
+	private boolean rootEvoNestedEvoBooleanAttribute;
+	private byte rootEvoNestedEvoByteAttribute;
+	private char rootEvoNestedEvoCharAttribute;
+	private Date rootEvoNestedEvoDateAttribute;
+	private double rootEvoNestedEvoDoubleAttribute;
+	private float rootEvoNestedEvoFloatAttribute;
+	private int rootEvoNestedEvoIntAttribute;
+	private BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+	private boolean rootEvoNestedEvoLeafEvoBooleanAttribute;
+	private byte rootEvoNestedEvoLeafEvoByteAttribute;
+	private char rootEvoNestedEvoLeafEvoCharAttribute;
+	private Date rootEvoNestedEvoLeafEvoDateAttribute;
+	private double rootEvoNestedEvoLeafEvoDoubleAttribute;
+	private float rootEvoNestedEvoLeafEvoFloatAttribute;
+	private int rootEvoNestedEvoLeafEvoIntAttribute;
+	private long rootEvoNestedEvoLeafEvoLongAttribute;
+	private short rootEvoNestedEvoLeafEvoShortAttribute;
+	private String rootEvoNestedEvoLeafEvoStringAttribute;
+	private Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute;
+	private long rootEvoNestedEvoLongAttribute;
+	private short rootEvoNestedEvoShortAttribute;
+	private String rootEvoNestedEvoStringAttribute;
+	private Timestamp rootEvoNestedEvoTimestampAttribute;
+	private short rootEvoShortAttribute;
+	private String rootEvoStringAttribute;
+	private Timestamp rootEvoTimestampAttribute;
+	private short shortAttribute;
+	private String stringAttribute;
+	private Timestamp timestampAttribute;
+	private EvoTypesLeaf pk;
+	private EvoTypesRoot rootEvo;
+	private EvoTypesNested rootEvoNestedEvo;
+	private EvoTypesLeaf rootEvoNestedEvoLeafEvo;
+	public boolean isDateAttributeNull()
+	{
+		return this.getDateAttribute() == null;
+	}
+
+	protected boolean isPkBigDecimalAttributeNull()
+	{
+		return this.getPkBigDecimalAttribute() == null;
+	}
+
+	protected boolean isPkBooleanAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkByteAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkCharAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkDateAttributeNull()
+	{
+		return this.getPkDateAttribute() == null;
+	}
+
+	protected boolean isPkDoubleAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkFloatAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkIntAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkLongAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkShortAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkStringAttributeNull()
+	{
+		return this.getPkStringAttribute() == null;
+	}
+
+	protected boolean isPkTimestampAttributeNull()
+	{
+		return this.getPkTimestampAttribute() == null;
+	}
+
+	protected boolean isRootEvoBigDecimalAttributeNull()
+	{
+		return this.getRootEvoBigDecimalAttribute() == null;
+	}
+
+	protected boolean isRootEvoDateAttributeNull()
+	{
+		return this.getRootEvoDateAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoBigDecimalAttributeNull()
+	{
+		return this.getRootEvoNestedEvoBigDecimalAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoDateAttributeNull()
+	{
+		return this.getRootEvoNestedEvoDateAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull()
+	{
+		return this.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDateAttributeNull()
+	{
+		return this.getRootEvoNestedEvoLeafEvoDateAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoStringAttributeNull()
+	{
+		return this.getRootEvoNestedEvoLeafEvoStringAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoTimestampAttributeNull()
+	{
+		return this.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoStringAttributeNull()
+	{
+		return this.getRootEvoNestedEvoStringAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoTimestampAttributeNull()
+	{
+		return this.getRootEvoNestedEvoTimestampAttribute() == null;
+	}
+
+	protected boolean isRootEvoStringAttributeNull()
+	{
+		return this.getRootEvoStringAttribute() == null;
+	}
+
+	protected boolean isRootEvoTimestampAttributeNull()
+	{
+		return this.getRootEvoTimestampAttribute() == null;
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.getStringAttribute() == null;
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.getTimestampAttribute() == null;
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	protected boolean isRootEvoBooleanAttributeNull()
+	{
+		return (isNullBits0 & 1 << 8) != 0 ;
+	}
+
+	protected boolean isRootEvoByteAttributeNull()
+	{
+		return (isNullBits0 & 1 << 9) != 0 ;
+	}
+
+	protected boolean isRootEvoCharAttributeNull()
+	{
+		return (isNullBits0 & 1 << 10) != 0 ;
+	}
+
+	protected boolean isRootEvoDoubleAttributeNull()
+	{
+		return (isNullBits0 & 1 << 11) != 0 ;
+	}
+
+	protected boolean isRootEvoFloatAttributeNull()
+	{
+		return (isNullBits0 & 1 << 12) != 0 ;
+	}
+
+	protected boolean isRootEvoIntAttributeNull()
+	{
+		return (isNullBits0 & 1 << 13) != 0 ;
+	}
+
+	protected boolean isRootEvoLongAttributeNull()
+	{
+		return (isNullBits0 & 1 << 14) != 0 ;
+	}
+
+	protected boolean isRootEvoShortAttributeNull()
+	{
+		return (isNullBits0 & 1 << 15) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttributeNull()
+	{
+		return (isNullBits0 & 1 << 16) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoByteAttributeNull()
+	{
+		return (isNullBits0 & 1 << 17) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoCharAttributeNull()
+	{
+		return (isNullBits0 & 1 << 18) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoDoubleAttributeNull()
+	{
+		return (isNullBits0 & 1 << 19) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoFloatAttributeNull()
+	{
+		return (isNullBits0 & 1 << 20) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoIntAttributeNull()
+	{
+		return (isNullBits0 & 1 << 21) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLongAttributeNull()
+	{
+		return (isNullBits0 & 1 << 22) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoShortAttributeNull()
+	{
+		return (isNullBits0 & 1 << 23) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		return (isNullBits0 & 1 << 24) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		return (isNullBits0 & 1 << 25) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		return (isNullBits0 & 1 << 26) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		return (isNullBits0 & 1 << 27) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		return (isNullBits0 & 1 << 28) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		return (isNullBits0 & 1 << 29) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		return (isNullBits0 & 1 << 30) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		return (isNullBits0 & 1L << 31) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.booleanAttribute);
+		out.writeByte(this.byteAttribute);
+		out.writeChar(this.charAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.dateAttribute);
+		out.writeDouble(this.doubleAttribute);
+		out.writeFloat(this.floatAttribute);
+		out.writeInt(this.intAttribute);
+		out.writeLong(this.longAttribute);
+		out.writeObject(this.pkBigDecimalAttribute);
+		out.writeBoolean(this.pkBooleanAttribute);
+		out.writeByte(this.pkByteAttribute);
+		out.writeChar(this.pkCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.pkDateAttribute);
+		out.writeDouble(this.pkDoubleAttribute);
+		out.writeFloat(this.pkFloatAttribute);
+		out.writeInt(this.pkIntAttribute);
+		out.writeLong(this.pkLongAttribute);
+		out.writeShort(this.pkShortAttribute);
+		out.writeObject(this.pkStringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.pkTimestampAttribute);
+		out.writeObject(this.rootEvoBigDecimalAttribute);
+		out.writeBoolean(this.rootEvoBooleanAttribute);
+		out.writeByte(this.rootEvoByteAttribute);
+		out.writeChar(this.rootEvoCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.rootEvoDateAttribute);
+		out.writeDouble(this.rootEvoDoubleAttribute);
+		out.writeFloat(this.rootEvoFloatAttribute);
+		out.writeInt(this.rootEvoIntAttribute);
+		out.writeLong(this.rootEvoLongAttribute);
+		out.writeObject(this.rootEvoNestedEvoBigDecimalAttribute);
+		out.writeBoolean(this.rootEvoNestedEvoBooleanAttribute);
+		out.writeByte(this.rootEvoNestedEvoByteAttribute);
+		out.writeChar(this.rootEvoNestedEvoCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.rootEvoNestedEvoDateAttribute);
+		out.writeDouble(this.rootEvoNestedEvoDoubleAttribute);
+		out.writeFloat(this.rootEvoNestedEvoFloatAttribute);
+		out.writeInt(this.rootEvoNestedEvoIntAttribute);
+		out.writeObject(this.rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+		out.writeBoolean(this.rootEvoNestedEvoLeafEvoBooleanAttribute);
+		out.writeByte(this.rootEvoNestedEvoLeafEvoByteAttribute);
+		out.writeChar(this.rootEvoNestedEvoLeafEvoCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.rootEvoNestedEvoLeafEvoDateAttribute);
+		out.writeDouble(this.rootEvoNestedEvoLeafEvoDoubleAttribute);
+		out.writeFloat(this.rootEvoNestedEvoLeafEvoFloatAttribute);
+		out.writeInt(this.rootEvoNestedEvoLeafEvoIntAttribute);
+		out.writeLong(this.rootEvoNestedEvoLeafEvoLongAttribute);
+		out.writeShort(this.rootEvoNestedEvoLeafEvoShortAttribute);
+		out.writeObject(this.rootEvoNestedEvoLeafEvoStringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.rootEvoNestedEvoLeafEvoTimestampAttribute);
+		out.writeLong(this.rootEvoNestedEvoLongAttribute);
+		out.writeShort(this.rootEvoNestedEvoShortAttribute);
+		out.writeObject(this.rootEvoNestedEvoStringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.rootEvoNestedEvoTimestampAttribute);
+		out.writeShort(this.rootEvoShortAttribute);
+		out.writeObject(this.rootEvoStringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.rootEvoTimestampAttribute);
+		out.writeShort(this.shortAttribute);
+		out.writeObject(this.stringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.timestampAttribute);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.isNullBits0);
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		return this.booleanAttribute;
+	}
+
+	public void setBooleanAttribute(boolean value)
+	{
+		this.booleanAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1);
+	}
+
+	public byte getByteAttribute()
+	{
+		return this.byteAttribute;
+	}
+
+	public void setByteAttribute(byte value)
+	{
+		this.byteAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 1);
+	}
+
+	public char getCharAttribute()
+	{
+		return this.charAttribute;
+	}
+
+	public void setCharAttribute(char value)
+	{
+		this.charAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 2);
+	}
+
+	public Date getDateAttribute()
+	{
+		return this.dateAttribute;
+	}
+
+	public void setDateAttribute(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.dateAttribute = (java.sql.Date) value;
+		}
+		else
+		{
+			this.dateAttribute = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setDateAttributeNull()
+	{
+		this.setDateAttribute(null);
+	}
+
+	public double getDoubleAttribute()
+	{
+		return this.doubleAttribute;
+	}
+
+	public void setDoubleAttribute(double value)
+	{
+		this.doubleAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 3);
+	}
+
+	public float getFloatAttribute()
+	{
+		return this.floatAttribute;
+	}
+
+	public void setFloatAttribute(float value)
+	{
+		this.floatAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 4);
+	}
+
+	public int getIntAttribute()
+	{
+		return this.intAttribute;
+	}
+
+	public void setIntAttribute(int value)
+	{
+		this.intAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 5);
+	}
+
+	public long getLongAttribute()
+	{
+		return this.longAttribute;
+	}
+
+	public void setLongAttribute(long value)
+	{
+		this.longAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 6);
+	}
+
+	protected BigDecimal getPkBigDecimalAttribute()
+	{
+		return this.pkBigDecimalAttribute;
+	}
+
+	protected void setPkBigDecimalAttribute(BigDecimal value)
+	{
+		this.pkBigDecimalAttribute = value;
+	}
+
+	protected void setPkBigDecimalAttributeNull()
+	{
+		this.setPkBigDecimalAttribute(null);
+	}
+
+	protected boolean isPkBooleanAttribute()
+	{
+		return this.pkBooleanAttribute;
+	}
+
+	protected void setPkBooleanAttribute(boolean value)
+	{
+		this.pkBooleanAttribute = value;
+	}
+
+	protected void setPkBooleanAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected byte getPkByteAttribute()
+	{
+		return this.pkByteAttribute;
+	}
+
+	protected void setPkByteAttribute(byte value)
+	{
+		this.pkByteAttribute = value;
+	}
+
+	protected void setPkByteAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected char getPkCharAttribute()
+	{
+		return this.pkCharAttribute;
+	}
+
+	protected void setPkCharAttribute(char value)
+	{
+		this.pkCharAttribute = value;
+	}
+
+	protected void setPkCharAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected Date getPkDateAttribute()
+	{
+		return this.pkDateAttribute;
+	}
+
+	protected void setPkDateAttribute(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.pkDateAttribute = (java.sql.Date) value;
+		}
+		else
+		{
+			this.pkDateAttribute = new java.sql.Date(value.getTime());
+		}
+	}
+
+	protected void setPkDateAttributeNull()
+	{
+		this.setPkDateAttribute(null);
+	}
+
+	protected double getPkDoubleAttribute()
+	{
+		return this.pkDoubleAttribute;
+	}
+
+	protected void setPkDoubleAttribute(double value)
+	{
+		this.pkDoubleAttribute = value;
+	}
+
+	protected void setPkDoubleAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected float getPkFloatAttribute()
+	{
+		return this.pkFloatAttribute;
+	}
+
+	protected void setPkFloatAttribute(float value)
+	{
+		this.pkFloatAttribute = value;
+	}
+
+	protected void setPkFloatAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected int getPkIntAttribute()
+	{
+		return this.pkIntAttribute;
+	}
+
+	protected void setPkIntAttribute(int value)
+	{
+		this.pkIntAttribute = value;
+	}
+
+	protected void setPkIntAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected long getPkLongAttribute()
+	{
+		return this.pkLongAttribute;
+	}
+
+	protected void setPkLongAttribute(long value)
+	{
+		this.pkLongAttribute = value;
+	}
+
+	protected void setPkLongAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected short getPkShortAttribute()
+	{
+		return this.pkShortAttribute;
+	}
+
+	protected void setPkShortAttribute(short value)
+	{
+		this.pkShortAttribute = value;
+	}
+
+	protected void setPkShortAttributeNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected String getPkStringAttribute()
+	{
+		return this.pkStringAttribute;
+	}
+
+	public int zGetPkStringAttributeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(pkStringAttribute);
+	}
+
+	protected void setPkStringAttribute(String value)
+	{
+		this.pkStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType1TxnTypesFinder.isFullCache());
+	}
+
+	protected void setPkStringAttributeNull()
+	{
+		this.setPkStringAttribute(null);
+	}
+
+	protected Timestamp getPkTimestampAttribute()
+	{
+		return this.pkTimestampAttribute;
+	}
+
+	public long zGetPkTimestampAttributeAsLong()
+	{
+		if (pkTimestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return pkTimestampAttribute.getTime();
+	}
+
+	protected void setPkTimestampAttribute(Timestamp value)
+	{
+		this.pkTimestampAttribute = value;
+	}
+
+	protected void setPkTimestampAttributeNull()
+	{
+		this.setPkTimestampAttribute(null);
+	}
+
+	protected BigDecimal getRootEvoBigDecimalAttribute()
+	{
+		return this.rootEvoBigDecimalAttribute;
+	}
+
+	protected void setRootEvoBigDecimalAttribute(BigDecimal value)
+	{
+		this.rootEvoBigDecimalAttribute = value;
+	}
+
+	protected void setRootEvoBigDecimalAttributeNull()
+	{
+		this.setRootEvoBigDecimalAttribute(null);
+	}
+
+	protected boolean isRootEvoBooleanAttribute()
+	{
+		return this.rootEvoBooleanAttribute;
+	}
+
+	protected void setRootEvoBooleanAttribute(boolean value)
+	{
+		this.rootEvoBooleanAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 8);
+	}
+
+	protected byte getRootEvoByteAttribute()
+	{
+		return this.rootEvoByteAttribute;
+	}
+
+	protected void setRootEvoByteAttribute(byte value)
+	{
+		this.rootEvoByteAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 9);
+	}
+
+	protected char getRootEvoCharAttribute()
+	{
+		return this.rootEvoCharAttribute;
+	}
+
+	protected void setRootEvoCharAttribute(char value)
+	{
+		this.rootEvoCharAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 10);
+	}
+
+	protected Date getRootEvoDateAttribute()
+	{
+		return this.rootEvoDateAttribute;
+	}
+
+	protected void setRootEvoDateAttribute(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.rootEvoDateAttribute = (java.sql.Date) value;
+		}
+		else
+		{
+			this.rootEvoDateAttribute = new java.sql.Date(value.getTime());
+		}
+	}
+
+	protected void setRootEvoDateAttributeNull()
+	{
+		this.setRootEvoDateAttribute(null);
+	}
+
+	protected double getRootEvoDoubleAttribute()
+	{
+		return this.rootEvoDoubleAttribute;
+	}
+
+	protected void setRootEvoDoubleAttribute(double value)
+	{
+		this.rootEvoDoubleAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 11);
+	}
+
+	protected float getRootEvoFloatAttribute()
+	{
+		return this.rootEvoFloatAttribute;
+	}
+
+	protected void setRootEvoFloatAttribute(float value)
+	{
+		this.rootEvoFloatAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 12);
+	}
+
+	protected int getRootEvoIntAttribute()
+	{
+		return this.rootEvoIntAttribute;
+	}
+
+	protected void setRootEvoIntAttribute(int value)
+	{
+		this.rootEvoIntAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 13);
+	}
+
+	protected long getRootEvoLongAttribute()
+	{
+		return this.rootEvoLongAttribute;
+	}
+
+	protected void setRootEvoLongAttribute(long value)
+	{
+		this.rootEvoLongAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 14);
+	}
+
+	protected BigDecimal getRootEvoNestedEvoBigDecimalAttribute()
+	{
+		return this.rootEvoNestedEvoBigDecimalAttribute;
+	}
+
+	protected void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal value)
+	{
+		this.rootEvoNestedEvoBigDecimalAttribute = value;
+	}
+
+	protected void setRootEvoNestedEvoBigDecimalAttributeNull()
+	{
+		this.setRootEvoNestedEvoBigDecimalAttribute(null);
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttribute()
+	{
+		return this.rootEvoNestedEvoBooleanAttribute;
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttribute(boolean value)
+	{
+		this.rootEvoNestedEvoBooleanAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 16);
+	}
+
+	protected byte getRootEvoNestedEvoByteAttribute()
+	{
+		return this.rootEvoNestedEvoByteAttribute;
+	}
+
+	protected void setRootEvoNestedEvoByteAttribute(byte value)
+	{
+		this.rootEvoNestedEvoByteAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 17);
+	}
+
+	protected char getRootEvoNestedEvoCharAttribute()
+	{
+		return this.rootEvoNestedEvoCharAttribute;
+	}
+
+	protected void setRootEvoNestedEvoCharAttribute(char value)
+	{
+		this.rootEvoNestedEvoCharAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 18);
+	}
+
+	protected Date getRootEvoNestedEvoDateAttribute()
+	{
+		return this.rootEvoNestedEvoDateAttribute;
+	}
+
+	protected void setRootEvoNestedEvoDateAttribute(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.rootEvoNestedEvoDateAttribute = (java.sql.Date) value;
+		}
+		else
+		{
+			this.rootEvoNestedEvoDateAttribute = new java.sql.Date(value.getTime());
+		}
+	}
+
+	protected void setRootEvoNestedEvoDateAttributeNull()
+	{
+		this.setRootEvoNestedEvoDateAttribute(null);
+	}
+
+	protected double getRootEvoNestedEvoDoubleAttribute()
+	{
+		return this.rootEvoNestedEvoDoubleAttribute;
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttribute(double value)
+	{
+		this.rootEvoNestedEvoDoubleAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 19);
+	}
+
+	protected float getRootEvoNestedEvoFloatAttribute()
+	{
+		return this.rootEvoNestedEvoFloatAttribute;
+	}
+
+	protected void setRootEvoNestedEvoFloatAttribute(float value)
+	{
+		this.rootEvoNestedEvoFloatAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 20);
+	}
+
+	protected int getRootEvoNestedEvoIntAttribute()
+	{
+		return this.rootEvoNestedEvoIntAttribute;
+	}
+
+	protected void setRootEvoNestedEvoIntAttribute(int value)
+	{
+		this.rootEvoNestedEvoIntAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 21);
+	}
+
+	protected BigDecimal getRootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal value)
+	{
+		this.rootEvoNestedEvoLeafEvoBigDecimalAttribute = value;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBigDecimalAttributeNull()
+	{
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(null);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoBooleanAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean value)
+	{
+		this.rootEvoNestedEvoLeafEvoBooleanAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 24);
+	}
+
+	protected byte getRootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoByteAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttribute(byte value)
+	{
+		this.rootEvoNestedEvoLeafEvoByteAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 25);
+	}
+
+	protected char getRootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoCharAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttribute(char value)
+	{
+		this.rootEvoNestedEvoLeafEvoCharAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 26);
+	}
+
+	protected Date getRootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoDateAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDateAttribute(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.rootEvoNestedEvoLeafEvoDateAttribute = (java.sql.Date) value;
+		}
+		else
+		{
+			this.rootEvoNestedEvoLeafEvoDateAttribute = new java.sql.Date(value.getTime());
+		}
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDateAttributeNull()
+	{
+		this.setRootEvoNestedEvoLeafEvoDateAttribute(null);
+	}
+
+	protected double getRootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoDoubleAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttribute(double value)
+	{
+		this.rootEvoNestedEvoLeafEvoDoubleAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 27);
+	}
+
+	protected float getRootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoFloatAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttribute(float value)
+	{
+		this.rootEvoNestedEvoLeafEvoFloatAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 28);
+	}
+
+	protected int getRootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoIntAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttribute(int value)
+	{
+		this.rootEvoNestedEvoLeafEvoIntAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 29);
+	}
+
+	protected long getRootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoLongAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttribute(long value)
+	{
+		this.rootEvoNestedEvoLeafEvoLongAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 30);
+	}
+
+	protected short getRootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoShortAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttribute(short value)
+	{
+		this.rootEvoNestedEvoLeafEvoShortAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 31);
+	}
+
+	protected String getRootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoStringAttribute;
+	}
+
+	public int zGetRootEvoNestedEvoLeafEvoStringAttributeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(rootEvoNestedEvoLeafEvoStringAttribute);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoStringAttribute(String value)
+	{
+		this.rootEvoNestedEvoLeafEvoStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType1TxnTypesFinder.isFullCache());
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoStringAttributeNull()
+	{
+		this.setRootEvoNestedEvoLeafEvoStringAttribute(null);
+	}
+
+	protected Timestamp getRootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoTimestampAttribute;
+	}
+
+	public long zGetRootEvoNestedEvoLeafEvoTimestampAttributeAsLong()
+	{
+		if (rootEvoNestedEvoLeafEvoTimestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return rootEvoNestedEvoLeafEvoTimestampAttribute.getTime();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp value)
+	{
+		this.rootEvoNestedEvoLeafEvoTimestampAttribute = value;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoTimestampAttributeNull()
+	{
+		this.setRootEvoNestedEvoLeafEvoTimestampAttribute(null);
+	}
+
+	protected long getRootEvoNestedEvoLongAttribute()
+	{
+		return this.rootEvoNestedEvoLongAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLongAttribute(long value)
+	{
+		this.rootEvoNestedEvoLongAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 22);
+	}
+
+	protected short getRootEvoNestedEvoShortAttribute()
+	{
+		return this.rootEvoNestedEvoShortAttribute;
+	}
+
+	protected void setRootEvoNestedEvoShortAttribute(short value)
+	{
+		this.rootEvoNestedEvoShortAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 23);
+	}
+
+	protected String getRootEvoNestedEvoStringAttribute()
+	{
+		return this.rootEvoNestedEvoStringAttribute;
+	}
+
+	public int zGetRootEvoNestedEvoStringAttributeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(rootEvoNestedEvoStringAttribute);
+	}
+
+	protected void setRootEvoNestedEvoStringAttribute(String value)
+	{
+		this.rootEvoNestedEvoStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType1TxnTypesFinder.isFullCache());
+	}
+
+	protected void setRootEvoNestedEvoStringAttributeNull()
+	{
+		this.setRootEvoNestedEvoStringAttribute(null);
+	}
+
+	protected Timestamp getRootEvoNestedEvoTimestampAttribute()
+	{
+		return this.rootEvoNestedEvoTimestampAttribute;
+	}
+
+	public long zGetRootEvoNestedEvoTimestampAttributeAsLong()
+	{
+		if (rootEvoNestedEvoTimestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return rootEvoNestedEvoTimestampAttribute.getTime();
+	}
+
+	protected void setRootEvoNestedEvoTimestampAttribute(Timestamp value)
+	{
+		this.rootEvoNestedEvoTimestampAttribute = value;
+	}
+
+	protected void setRootEvoNestedEvoTimestampAttributeNull()
+	{
+		this.setRootEvoNestedEvoTimestampAttribute(null);
+	}
+
+	protected short getRootEvoShortAttribute()
+	{
+		return this.rootEvoShortAttribute;
+	}
+
+	protected void setRootEvoShortAttribute(short value)
+	{
+		this.rootEvoShortAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 15);
+	}
+
+	protected String getRootEvoStringAttribute()
+	{
+		return this.rootEvoStringAttribute;
+	}
+
+	public int zGetRootEvoStringAttributeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(rootEvoStringAttribute);
+	}
+
+	protected void setRootEvoStringAttribute(String value)
+	{
+		this.rootEvoStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType1TxnTypesFinder.isFullCache());
+	}
+
+	protected void setRootEvoStringAttributeNull()
+	{
+		this.setRootEvoStringAttribute(null);
+	}
+
+	protected Timestamp getRootEvoTimestampAttribute()
+	{
+		return this.rootEvoTimestampAttribute;
+	}
+
+	public long zGetRootEvoTimestampAttributeAsLong()
+	{
+		if (rootEvoTimestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return rootEvoTimestampAttribute.getTime();
+	}
+
+	protected void setRootEvoTimestampAttribute(Timestamp value)
+	{
+		this.rootEvoTimestampAttribute = value;
+	}
+
+	protected void setRootEvoTimestampAttributeNull()
+	{
+		this.setRootEvoTimestampAttribute(null);
+	}
+
+	public short getShortAttribute()
+	{
+		return this.shortAttribute;
+	}
+
+	public void setShortAttribute(short value)
+	{
+		this.shortAttribute = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 7);
+	}
+
+	public String getStringAttribute()
+	{
+		return this.stringAttribute;
+	}
+
+	public int zGetStringAttributeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(stringAttribute);
+	}
+
+	public void setStringAttribute(String value)
+	{
+		this.stringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType1TxnTypesFinder.isFullCache());
+	}
+
+	public void setStringAttributeNull()
+	{
+		this.setStringAttribute(null);
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		return this.timestampAttribute;
+	}
+
+	public long zGetTimestampAttributeAsLong()
+	{
+		if (timestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+		return timestampAttribute.getTime();
+	}
+
+	public void setTimestampAttribute(Timestamp value)
+	{
+		this.timestampAttribute = TimestampPool.getInstance().getOrAddToCache(value, EvoType1TxnTypesFinder.isFullCache(), EvoType1TxnTypesFinder.isOffHeap());
+	}
+
+	public void setTimestampAttributeNull()
+	{
+		this.setTimestampAttribute(null);
+	}
+
+	public EvoTypesLeaf getPk()
+	{
+		return this.pk;
+	}
+
+	public void setPk(EvoTypesLeaf pk)
+	{
+		this.pk = pk;
+	}
+
+	public EvoTypesRoot getRootEvo()
+	{
+		return this.rootEvo;
+	}
+
+	public void setRootEvo(EvoTypesRoot rootEvo)
+	{
+		this.rootEvo = rootEvo;
+	}
+
+	public EvoTypesNested getRootEvoNestedEvo()
+	{
+		return this.rootEvoNestedEvo;
+	}
+
+	public void setRootEvoNestedEvo(EvoTypesNested nestedEvo)
+	{
+		this.rootEvoNestedEvo = nestedEvo;
+	}
+
+	public EvoTypesLeaf getRootEvoNestedEvoLeafEvo()
+	{
+		return this.rootEvoNestedEvoLeafEvo;
+	}
+
+	public void setRootEvoNestedEvoLeafEvo(EvoTypesLeaf leafEvo)
+	{
+		this.rootEvoNestedEvoLeafEvo = leafEvo;
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1);
+	}
+
+	public void setByteAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 1);
+	}
+
+	public void setCharAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 2);
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 3);
+	}
+
+	public void setFloatAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 4);
+	}
+
+	public void setIntAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 5);
+	}
+
+	public void setLongAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 6);
+	}
+
+	public void setShortAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 7);
+	}
+
+	protected void setRootEvoBooleanAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 8);
+	}
+
+	protected void setRootEvoByteAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 9);
+	}
+
+	protected void setRootEvoCharAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 10);
+	}
+
+	protected void setRootEvoDoubleAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 11);
+	}
+
+	protected void setRootEvoFloatAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 12);
+	}
+
+	protected void setRootEvoIntAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 13);
+	}
+
+	protected void setRootEvoLongAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 14);
+	}
+
+	protected void setRootEvoShortAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 15);
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 16);
+	}
+
+	protected void setRootEvoNestedEvoByteAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 17);
+	}
+
+	protected void setRootEvoNestedEvoCharAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 18);
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 19);
+	}
+
+	protected void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 20);
+	}
+
+	protected void setRootEvoNestedEvoIntAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 21);
+	}
+
+	protected void setRootEvoNestedEvoLongAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 22);
+	}
+
+	protected void setRootEvoNestedEvoShortAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 23);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 24);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 25);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 26);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 27);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 28);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 29);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 30);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		isNullBits0 = (isNullBits0 | 1L << 31);
+	}
+
+	public long zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(long newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(EvoType1TxnTypesData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.booleanAttribute = this.booleanAttribute;
+		copy.byteAttribute = this.byteAttribute;
+		copy.charAttribute = this.charAttribute;
+		copy.dateAttribute = this.dateAttribute;
+		copy.doubleAttribute = this.doubleAttribute;
+		copy.floatAttribute = this.floatAttribute;
+		copy.intAttribute = this.intAttribute;
+		copy.longAttribute = this.longAttribute;
+		copy.pkBigDecimalAttribute = this.pkBigDecimalAttribute;
+		copy.pkBooleanAttribute = this.pkBooleanAttribute;
+		copy.pkByteAttribute = this.pkByteAttribute;
+		copy.pkCharAttribute = this.pkCharAttribute;
+		copy.pkDateAttribute = this.pkDateAttribute;
+		copy.pkDoubleAttribute = this.pkDoubleAttribute;
+		copy.pkFloatAttribute = this.pkFloatAttribute;
+		copy.pkIntAttribute = this.pkIntAttribute;
+		copy.pkLongAttribute = this.pkLongAttribute;
+		copy.pkShortAttribute = this.pkShortAttribute;
+		copy.pkStringAttribute = this.pkStringAttribute;
+		copy.pkTimestampAttribute = this.pkTimestampAttribute;
+		copy.rootEvoBigDecimalAttribute = this.rootEvoBigDecimalAttribute;
+		copy.rootEvoBooleanAttribute = this.rootEvoBooleanAttribute;
+		copy.rootEvoByteAttribute = this.rootEvoByteAttribute;
+		copy.rootEvoCharAttribute = this.rootEvoCharAttribute;
+		copy.rootEvoDateAttribute = this.rootEvoDateAttribute;
+		copy.rootEvoDoubleAttribute = this.rootEvoDoubleAttribute;
+		copy.rootEvoFloatAttribute = this.rootEvoFloatAttribute;
+		copy.rootEvoIntAttribute = this.rootEvoIntAttribute;
+		copy.rootEvoLongAttribute = this.rootEvoLongAttribute;
+		copy.rootEvoNestedEvoBigDecimalAttribute = this.rootEvoNestedEvoBigDecimalAttribute;
+		copy.rootEvoNestedEvoBooleanAttribute = this.rootEvoNestedEvoBooleanAttribute;
+		copy.rootEvoNestedEvoByteAttribute = this.rootEvoNestedEvoByteAttribute;
+		copy.rootEvoNestedEvoCharAttribute = this.rootEvoNestedEvoCharAttribute;
+		copy.rootEvoNestedEvoDateAttribute = this.rootEvoNestedEvoDateAttribute;
+		copy.rootEvoNestedEvoDoubleAttribute = this.rootEvoNestedEvoDoubleAttribute;
+		copy.rootEvoNestedEvoFloatAttribute = this.rootEvoNestedEvoFloatAttribute;
+		copy.rootEvoNestedEvoIntAttribute = this.rootEvoNestedEvoIntAttribute;
+		copy.rootEvoNestedEvoLeafEvoBigDecimalAttribute = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+		copy.rootEvoNestedEvoLeafEvoBooleanAttribute = this.rootEvoNestedEvoLeafEvoBooleanAttribute;
+		copy.rootEvoNestedEvoLeafEvoByteAttribute = this.rootEvoNestedEvoLeafEvoByteAttribute;
+		copy.rootEvoNestedEvoLeafEvoCharAttribute = this.rootEvoNestedEvoLeafEvoCharAttribute;
+		copy.rootEvoNestedEvoLeafEvoDateAttribute = this.rootEvoNestedEvoLeafEvoDateAttribute;
+		copy.rootEvoNestedEvoLeafEvoDoubleAttribute = this.rootEvoNestedEvoLeafEvoDoubleAttribute;
+		copy.rootEvoNestedEvoLeafEvoFloatAttribute = this.rootEvoNestedEvoLeafEvoFloatAttribute;
+		copy.rootEvoNestedEvoLeafEvoIntAttribute = this.rootEvoNestedEvoLeafEvoIntAttribute;
+		copy.rootEvoNestedEvoLeafEvoLongAttribute = this.rootEvoNestedEvoLeafEvoLongAttribute;
+		copy.rootEvoNestedEvoLeafEvoShortAttribute = this.rootEvoNestedEvoLeafEvoShortAttribute;
+		copy.rootEvoNestedEvoLeafEvoStringAttribute = this.rootEvoNestedEvoLeafEvoStringAttribute;
+		copy.rootEvoNestedEvoLeafEvoTimestampAttribute = this.rootEvoNestedEvoLeafEvoTimestampAttribute;
+		copy.rootEvoNestedEvoLongAttribute = this.rootEvoNestedEvoLongAttribute;
+		copy.rootEvoNestedEvoShortAttribute = this.rootEvoNestedEvoShortAttribute;
+		copy.rootEvoNestedEvoStringAttribute = this.rootEvoNestedEvoStringAttribute;
+		copy.rootEvoNestedEvoTimestampAttribute = this.rootEvoNestedEvoTimestampAttribute;
+		copy.rootEvoShortAttribute = this.rootEvoShortAttribute;
+		copy.rootEvoStringAttribute = this.rootEvoStringAttribute;
+		copy.rootEvoTimestampAttribute = this.rootEvoTimestampAttribute;
+		copy.shortAttribute = this.shortAttribute;
+		copy.stringAttribute = this.stringAttribute;
+		copy.timestampAttribute = this.timestampAttribute;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[2];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readLong();
+		this.booleanAttribute = in.readBoolean();
+		this.byteAttribute = in.readByte();
+		this.charAttribute = in.readChar();
+		this.dateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.doubleAttribute = in.readDouble();
+		this.floatAttribute = in.readFloat();
+		this.intAttribute = in.readInt();
+		this.longAttribute = in.readLong();
+		this.pkBigDecimalAttribute = (BigDecimal)in.readObject();
+		this.pkBooleanAttribute = in.readBoolean();
+		this.pkByteAttribute = in.readByte();
+		this.pkCharAttribute = in.readChar();
+		this.pkDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.pkDoubleAttribute = in.readDouble();
+		this.pkFloatAttribute = in.readFloat();
+		this.pkIntAttribute = in.readInt();
+		this.pkLongAttribute = in.readLong();
+		this.pkShortAttribute = in.readShort();
+		this.pkStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TxnTypesFinder.isFullCache());
+		this.pkTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+		this.rootEvoBigDecimalAttribute = (BigDecimal)in.readObject();
+		this.rootEvoBooleanAttribute = in.readBoolean();
+		this.rootEvoByteAttribute = in.readByte();
+		this.rootEvoCharAttribute = in.readChar();
+		this.rootEvoDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.rootEvoDoubleAttribute = in.readDouble();
+		this.rootEvoFloatAttribute = in.readFloat();
+		this.rootEvoIntAttribute = in.readInt();
+		this.rootEvoLongAttribute = in.readLong();
+		this.rootEvoNestedEvoBigDecimalAttribute = (BigDecimal)in.readObject();
+		this.rootEvoNestedEvoBooleanAttribute = in.readBoolean();
+		this.rootEvoNestedEvoByteAttribute = in.readByte();
+		this.rootEvoNestedEvoCharAttribute = in.readChar();
+		this.rootEvoNestedEvoDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.rootEvoNestedEvoDoubleAttribute = in.readDouble();
+		this.rootEvoNestedEvoFloatAttribute = in.readFloat();
+		this.rootEvoNestedEvoIntAttribute = in.readInt();
+		this.rootEvoNestedEvoLeafEvoBigDecimalAttribute = (BigDecimal)in.readObject();
+		this.rootEvoNestedEvoLeafEvoBooleanAttribute = in.readBoolean();
+		this.rootEvoNestedEvoLeafEvoByteAttribute = in.readByte();
+		this.rootEvoNestedEvoLeafEvoCharAttribute = in.readChar();
+		this.rootEvoNestedEvoLeafEvoDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.rootEvoNestedEvoLeafEvoDoubleAttribute = in.readDouble();
+		this.rootEvoNestedEvoLeafEvoFloatAttribute = in.readFloat();
+		this.rootEvoNestedEvoLeafEvoIntAttribute = in.readInt();
+		this.rootEvoNestedEvoLeafEvoLongAttribute = in.readLong();
+		this.rootEvoNestedEvoLeafEvoShortAttribute = in.readShort();
+		this.rootEvoNestedEvoLeafEvoStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TxnTypesFinder.isFullCache());
+		this.rootEvoNestedEvoLeafEvoTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+		this.rootEvoNestedEvoLongAttribute = in.readLong();
+		this.rootEvoNestedEvoShortAttribute = in.readShort();
+		this.rootEvoNestedEvoStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TxnTypesFinder.isFullCache());
+		this.rootEvoNestedEvoTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+		this.rootEvoShortAttribute = in.readShort();
+		this.rootEvoStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TxnTypesFinder.isFullCache());
+		this.rootEvoTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+		this.shortAttribute = in.readShort();
+		this.stringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TxnTypesFinder.isFullCache());
+		this.timestampAttribute = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), EvoType1TxnTypesFinder.isFullCache(), EvoType1TxnTypesFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final EvoType1TxnTypesData otherData = (EvoType1TxnTypesData) other;
+		if (!isPkBigDecimalAttributeNull() ? !getPkBigDecimalAttribute().equals(otherData.getPkBigDecimalAttribute()) : !otherData.isPkBigDecimalAttributeNull())
+		{
+			return false;
+		}
+
+		if (isPkBooleanAttribute() != otherData.isPkBooleanAttribute())
+		{
+			return false;
+		}
+
+		if (getPkByteAttribute() != otherData.getPkByteAttribute())
+		{
+			return false;
+		}
+
+		if (getPkCharAttribute() != otherData.getPkCharAttribute())
+		{
+			return false;
+		}
+
+		if (!isPkDateAttributeNull() ? !getPkDateAttribute().equals(otherData.getPkDateAttribute()) : !otherData.isPkDateAttributeNull())
+		{
+			return false;
+		}
+
+		if (getPkDoubleAttribute() != otherData.getPkDoubleAttribute())
+		{
+			return false;
+		}
+
+		if (getPkFloatAttribute() != otherData.getPkFloatAttribute())
+		{
+			return false;
+		}
+
+		if (getPkIntAttribute() != otherData.getPkIntAttribute())
+		{
+			return false;
+		}
+
+		if (getPkLongAttribute() != otherData.getPkLongAttribute())
+		{
+			return false;
+		}
+
+		if (getPkShortAttribute() != otherData.getPkShortAttribute())
+		{
+			return false;
+		}
+
+		if (!isPkStringAttributeNull() ? !getPkStringAttribute().equals(otherData.getPkStringAttribute()) : !otherData.isPkStringAttributeNull())
+		{
+			return false;
+		}
+
+		if (!isPkTimestampAttributeNull() ? !getPkTimestampAttribute().equals(otherData.getPkTimestampAttribute()) : !otherData.isPkTimestampAttributeNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.pkBigDecimalAttribute);
+		out.writeBoolean(this.pkBooleanAttribute);
+		out.writeByte(this.pkByteAttribute);
+		out.writeChar(this.pkCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.pkDateAttribute);
+		out.writeDouble(this.pkDoubleAttribute);
+		out.writeFloat(this.pkFloatAttribute);
+		out.writeInt(this.pkIntAttribute);
+		out.writeLong(this.pkLongAttribute);
+		out.writeShort(this.pkShortAttribute);
+		out.writeObject(this.pkStringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.pkTimestampAttribute);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.pkBigDecimalAttribute = (BigDecimal)in.readObject();
+		this.pkBooleanAttribute = in.readBoolean();
+		this.pkByteAttribute = in.readByte();
+		this.pkCharAttribute = in.readChar();
+		this.pkDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.pkDoubleAttribute = in.readDouble();
+		this.pkFloatAttribute = in.readFloat();
+		this.pkIntAttribute = in.readInt();
+		this.pkLongAttribute = in.readLong();
+		this.pkShortAttribute = in.readShort();
+		this.pkStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType1TxnTypesFinder.isFullCache());
+		this.pkTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getRootEvoOrder()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setRootEvoOrder(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getRootEvoNestedEvoOrderStatus()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setRootEvoNestedEvoOrderStatus(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final EvoType1TxnTypesData evoType1TxnTypesData = (EvoType1TxnTypesData) newData;
+		this.setBooleanAttribute(evoType1TxnTypesData.isBooleanAttribute());
+		if (evoType1TxnTypesData.isBooleanAttributeNull()) this.setBooleanAttributeNull();
+		this.setByteAttribute(evoType1TxnTypesData.getByteAttribute());
+		if (evoType1TxnTypesData.isByteAttributeNull()) this.setByteAttributeNull();
+		this.setCharAttribute(evoType1TxnTypesData.getCharAttribute());
+		if (evoType1TxnTypesData.isCharAttributeNull()) this.setCharAttributeNull();
+		this.setDateAttribute(evoType1TxnTypesData.getDateAttribute());
+		this.setDoubleAttribute(evoType1TxnTypesData.getDoubleAttribute());
+		if (evoType1TxnTypesData.isDoubleAttributeNull()) this.setDoubleAttributeNull();
+		this.setFloatAttribute(evoType1TxnTypesData.getFloatAttribute());
+		if (evoType1TxnTypesData.isFloatAttributeNull()) this.setFloatAttributeNull();
+		this.setIntAttribute(evoType1TxnTypesData.getIntAttribute());
+		if (evoType1TxnTypesData.isIntAttributeNull()) this.setIntAttributeNull();
+		this.setLongAttribute(evoType1TxnTypesData.getLongAttribute());
+		if (evoType1TxnTypesData.isLongAttributeNull()) this.setLongAttributeNull();
+		this.setRootEvoBigDecimalAttribute(evoType1TxnTypesData.getRootEvoBigDecimalAttribute());
+		this.setRootEvoBooleanAttribute(evoType1TxnTypesData.isRootEvoBooleanAttribute());
+		if (evoType1TxnTypesData.isRootEvoBooleanAttributeNull()) this.setRootEvoBooleanAttributeNull();
+		this.setRootEvoByteAttribute(evoType1TxnTypesData.getRootEvoByteAttribute());
+		if (evoType1TxnTypesData.isRootEvoByteAttributeNull()) this.setRootEvoByteAttributeNull();
+		this.setRootEvoCharAttribute(evoType1TxnTypesData.getRootEvoCharAttribute());
+		if (evoType1TxnTypesData.isRootEvoCharAttributeNull()) this.setRootEvoCharAttributeNull();
+		this.setRootEvoDateAttribute(evoType1TxnTypesData.getRootEvoDateAttribute());
+		this.setRootEvoDoubleAttribute(evoType1TxnTypesData.getRootEvoDoubleAttribute());
+		if (evoType1TxnTypesData.isRootEvoDoubleAttributeNull()) this.setRootEvoDoubleAttributeNull();
+		this.setRootEvoFloatAttribute(evoType1TxnTypesData.getRootEvoFloatAttribute());
+		if (evoType1TxnTypesData.isRootEvoFloatAttributeNull()) this.setRootEvoFloatAttributeNull();
+		this.setRootEvoIntAttribute(evoType1TxnTypesData.getRootEvoIntAttribute());
+		if (evoType1TxnTypesData.isRootEvoIntAttributeNull()) this.setRootEvoIntAttributeNull();
+		this.setRootEvoLongAttribute(evoType1TxnTypesData.getRootEvoLongAttribute());
+		if (evoType1TxnTypesData.isRootEvoLongAttributeNull()) this.setRootEvoLongAttributeNull();
+		this.setRootEvoNestedEvoBigDecimalAttribute(evoType1TxnTypesData.getRootEvoNestedEvoBigDecimalAttribute());
+		this.setRootEvoNestedEvoBooleanAttribute(evoType1TxnTypesData.isRootEvoNestedEvoBooleanAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoBooleanAttributeNull()) this.setRootEvoNestedEvoBooleanAttributeNull();
+		this.setRootEvoNestedEvoByteAttribute(evoType1TxnTypesData.getRootEvoNestedEvoByteAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoByteAttributeNull()) this.setRootEvoNestedEvoByteAttributeNull();
+		this.setRootEvoNestedEvoCharAttribute(evoType1TxnTypesData.getRootEvoNestedEvoCharAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoCharAttributeNull()) this.setRootEvoNestedEvoCharAttributeNull();
+		this.setRootEvoNestedEvoDateAttribute(evoType1TxnTypesData.getRootEvoNestedEvoDateAttribute());
+		this.setRootEvoNestedEvoDoubleAttribute(evoType1TxnTypesData.getRootEvoNestedEvoDoubleAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoDoubleAttributeNull()) this.setRootEvoNestedEvoDoubleAttributeNull();
+		this.setRootEvoNestedEvoFloatAttribute(evoType1TxnTypesData.getRootEvoNestedEvoFloatAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoFloatAttributeNull()) this.setRootEvoNestedEvoFloatAttributeNull();
+		this.setRootEvoNestedEvoIntAttribute(evoType1TxnTypesData.getRootEvoNestedEvoIntAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoIntAttributeNull()) this.setRootEvoNestedEvoIntAttributeNull();
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoBigDecimalAttribute());
+		this.setRootEvoNestedEvoLeafEvoBooleanAttribute(evoType1TxnTypesData.isRootEvoNestedEvoLeafEvoBooleanAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoLeafEvoBooleanAttributeNull()) this.setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+		this.setRootEvoNestedEvoLeafEvoByteAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoByteAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoLeafEvoByteAttributeNull()) this.setRootEvoNestedEvoLeafEvoByteAttributeNull();
+		this.setRootEvoNestedEvoLeafEvoCharAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoCharAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoLeafEvoCharAttributeNull()) this.setRootEvoNestedEvoLeafEvoCharAttributeNull();
+		this.setRootEvoNestedEvoLeafEvoDateAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoDateAttribute());
+		this.setRootEvoNestedEvoLeafEvoDoubleAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoDoubleAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoLeafEvoDoubleAttributeNull()) this.setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+		this.setRootEvoNestedEvoLeafEvoFloatAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoFloatAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoLeafEvoFloatAttributeNull()) this.setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+		this.setRootEvoNestedEvoLeafEvoIntAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoIntAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoLeafEvoIntAttributeNull()) this.setRootEvoNestedEvoLeafEvoIntAttributeNull();
+		this.setRootEvoNestedEvoLeafEvoLongAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoLongAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoLeafEvoLongAttributeNull()) this.setRootEvoNestedEvoLeafEvoLongAttributeNull();
+		this.setRootEvoNestedEvoLeafEvoShortAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoShortAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoLeafEvoShortAttributeNull()) this.setRootEvoNestedEvoLeafEvoShortAttributeNull();
+		this.setRootEvoNestedEvoLeafEvoStringAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoStringAttribute());
+		this.setRootEvoNestedEvoLeafEvoTimestampAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLeafEvoTimestampAttribute());
+		this.setRootEvoNestedEvoLongAttribute(evoType1TxnTypesData.getRootEvoNestedEvoLongAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoLongAttributeNull()) this.setRootEvoNestedEvoLongAttributeNull();
+		this.setRootEvoNestedEvoShortAttribute(evoType1TxnTypesData.getRootEvoNestedEvoShortAttribute());
+		if (evoType1TxnTypesData.isRootEvoNestedEvoShortAttributeNull()) this.setRootEvoNestedEvoShortAttributeNull();
+		this.setRootEvoNestedEvoStringAttribute(evoType1TxnTypesData.getRootEvoNestedEvoStringAttribute());
+		this.setRootEvoNestedEvoTimestampAttribute(evoType1TxnTypesData.getRootEvoNestedEvoTimestampAttribute());
+		this.setRootEvoShortAttribute(evoType1TxnTypesData.getRootEvoShortAttribute());
+		if (evoType1TxnTypesData.isRootEvoShortAttributeNull()) this.setRootEvoShortAttributeNull();
+		this.setRootEvoStringAttribute(evoType1TxnTypesData.getRootEvoStringAttribute());
+		this.setRootEvoTimestampAttribute(evoType1TxnTypesData.getRootEvoTimestampAttribute());
+		this.setShortAttribute(evoType1TxnTypesData.getShortAttribute());
+		if (evoType1TxnTypesData.isShortAttributeNull()) this.setShortAttributeNull();
+		this.setStringAttribute(evoType1TxnTypesData.getStringAttribute());
+		this.setTimestampAttribute(evoType1TxnTypesData.getTimestampAttribute());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final EvoType1TxnTypesData other = (EvoType1TxnTypesData) newData;
+		if ( isBooleanAttributeNull() != other.isBooleanAttributeNull() || isBooleanAttribute() != other.isBooleanAttribute())
+		{
+			return true;
+		}
+
+		if ( isByteAttributeNull() != other.isByteAttributeNull() || getByteAttribute() != other.getByteAttribute())
+		{
+			return true;
+		}
+
+		if ( isCharAttributeNull() != other.isCharAttributeNull() || getCharAttribute() != other.getCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isDateAttributeNull() ? !getDateAttribute().equals(other.getDateAttribute()) : !other.isDateAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isDoubleAttributeNull() != other.isDoubleAttributeNull() || Math.abs(getDoubleAttribute() - other.getDoubleAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isFloatAttributeNull() != other.isFloatAttributeNull() || Math.abs(getFloatAttribute() - other.getFloatAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isIntAttributeNull() != other.isIntAttributeNull() || getIntAttribute() != other.getIntAttribute())
+		{
+			return true;
+		}
+
+		if ( isLongAttributeNull() != other.isLongAttributeNull() || getLongAttribute() != other.getLongAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoBigDecimalAttributeNull() ? !getRootEvoBigDecimalAttribute().equals(other.getRootEvoBigDecimalAttribute()) : !other.isRootEvoBigDecimalAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoBooleanAttributeNull() != other.isRootEvoBooleanAttributeNull() || isRootEvoBooleanAttribute() != other.isRootEvoBooleanAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoByteAttributeNull() != other.isRootEvoByteAttributeNull() || getRootEvoByteAttribute() != other.getRootEvoByteAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoCharAttributeNull() != other.isRootEvoCharAttributeNull() || getRootEvoCharAttribute() != other.getRootEvoCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoDateAttributeNull() ? !getRootEvoDateAttribute().equals(other.getRootEvoDateAttribute()) : !other.isRootEvoDateAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoDoubleAttributeNull() != other.isRootEvoDoubleAttributeNull() || Math.abs(getRootEvoDoubleAttribute() - other.getRootEvoDoubleAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRootEvoFloatAttributeNull() != other.isRootEvoFloatAttributeNull() || Math.abs(getRootEvoFloatAttribute() - other.getRootEvoFloatAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRootEvoIntAttributeNull() != other.isRootEvoIntAttributeNull() || getRootEvoIntAttribute() != other.getRootEvoIntAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoLongAttributeNull() != other.isRootEvoLongAttributeNull() || getRootEvoLongAttribute() != other.getRootEvoLongAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoBigDecimalAttributeNull() ? !getRootEvoNestedEvoBigDecimalAttribute().equals(other.getRootEvoNestedEvoBigDecimalAttribute()) : !other.isRootEvoNestedEvoBigDecimalAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoBooleanAttributeNull() != other.isRootEvoNestedEvoBooleanAttributeNull() || isRootEvoNestedEvoBooleanAttribute() != other.isRootEvoNestedEvoBooleanAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoByteAttributeNull() != other.isRootEvoNestedEvoByteAttributeNull() || getRootEvoNestedEvoByteAttribute() != other.getRootEvoNestedEvoByteAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoCharAttributeNull() != other.isRootEvoNestedEvoCharAttributeNull() || getRootEvoNestedEvoCharAttribute() != other.getRootEvoNestedEvoCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoDateAttributeNull() ? !getRootEvoNestedEvoDateAttribute().equals(other.getRootEvoNestedEvoDateAttribute()) : !other.isRootEvoNestedEvoDateAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoDoubleAttributeNull() != other.isRootEvoNestedEvoDoubleAttributeNull() || Math.abs(getRootEvoNestedEvoDoubleAttribute() - other.getRootEvoNestedEvoDoubleAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoFloatAttributeNull() != other.isRootEvoNestedEvoFloatAttributeNull() || Math.abs(getRootEvoNestedEvoFloatAttribute() - other.getRootEvoNestedEvoFloatAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoIntAttributeNull() != other.isRootEvoNestedEvoIntAttributeNull() || getRootEvoNestedEvoIntAttribute() != other.getRootEvoNestedEvoIntAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull() ? !getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(other.getRootEvoNestedEvoLeafEvoBigDecimalAttribute()) : !other.isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoLeafEvoBooleanAttributeNull() != other.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() || isRootEvoNestedEvoLeafEvoBooleanAttribute() != other.isRootEvoNestedEvoLeafEvoBooleanAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoLeafEvoByteAttributeNull() != other.isRootEvoNestedEvoLeafEvoByteAttributeNull() || getRootEvoNestedEvoLeafEvoByteAttribute() != other.getRootEvoNestedEvoLeafEvoByteAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoLeafEvoCharAttributeNull() != other.isRootEvoNestedEvoLeafEvoCharAttributeNull() || getRootEvoNestedEvoLeafEvoCharAttribute() != other.getRootEvoNestedEvoLeafEvoCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoLeafEvoDateAttributeNull() ? !getRootEvoNestedEvoLeafEvoDateAttribute().equals(other.getRootEvoNestedEvoLeafEvoDateAttribute()) : !other.isRootEvoNestedEvoLeafEvoDateAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoLeafEvoDoubleAttributeNull() != other.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() || Math.abs(getRootEvoNestedEvoLeafEvoDoubleAttribute() - other.getRootEvoNestedEvoLeafEvoDoubleAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoLeafEvoFloatAttributeNull() != other.isRootEvoNestedEvoLeafEvoFloatAttributeNull() || Math.abs(getRootEvoNestedEvoLeafEvoFloatAttribute() - other.getRootEvoNestedEvoLeafEvoFloatAttribute()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoLeafEvoIntAttributeNull() != other.isRootEvoNestedEvoLeafEvoIntAttributeNull() || getRootEvoNestedEvoLeafEvoIntAttribute() != other.getRootEvoNestedEvoLeafEvoIntAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoLeafEvoLongAttributeNull() != other.isRootEvoNestedEvoLeafEvoLongAttributeNull() || getRootEvoNestedEvoLeafEvoLongAttribute() != other.getRootEvoNestedEvoLeafEvoLongAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoLeafEvoShortAttributeNull() != other.isRootEvoNestedEvoLeafEvoShortAttributeNull() || getRootEvoNestedEvoLeafEvoShortAttribute() != other.getRootEvoNestedEvoLeafEvoShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoLeafEvoStringAttributeNull() ? !getRootEvoNestedEvoLeafEvoStringAttribute().equals(other.getRootEvoNestedEvoLeafEvoStringAttribute()) : !other.isRootEvoNestedEvoLeafEvoStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoLeafEvoTimestampAttributeNull() ? !getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(other.getRootEvoNestedEvoLeafEvoTimestampAttribute()) : !other.isRootEvoNestedEvoLeafEvoTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoLongAttributeNull() != other.isRootEvoNestedEvoLongAttributeNull() || getRootEvoNestedEvoLongAttribute() != other.getRootEvoNestedEvoLongAttribute())
+		{
+			return true;
+		}
+
+		if ( isRootEvoNestedEvoShortAttributeNull() != other.isRootEvoNestedEvoShortAttributeNull() || getRootEvoNestedEvoShortAttribute() != other.getRootEvoNestedEvoShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoStringAttributeNull() ? !getRootEvoNestedEvoStringAttribute().equals(other.getRootEvoNestedEvoStringAttribute()) : !other.isRootEvoNestedEvoStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoTimestampAttributeNull() ? !getRootEvoNestedEvoTimestampAttribute().equals(other.getRootEvoNestedEvoTimestampAttribute()) : !other.isRootEvoNestedEvoTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isRootEvoShortAttributeNull() != other.isRootEvoShortAttributeNull() || getRootEvoShortAttribute() != other.getRootEvoShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoStringAttributeNull() ? !getRootEvoStringAttribute().equals(other.getRootEvoStringAttribute()) : !other.isRootEvoStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isRootEvoTimestampAttributeNull() ? !getRootEvoTimestampAttribute().equals(other.getRootEvoTimestampAttribute()) : !other.isRootEvoTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		if ( isShortAttributeNull() != other.isShortAttributeNull() || getShortAttribute() != other.getShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isStringAttributeNull() ? !getStringAttribute().equals(other.getStringAttribute()) : !other.isStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isTimestampAttributeNull() ? !getTimestampAttribute().equals(other.getTimestampAttribute()) : !other.isTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		EvoType1TxnTypesData copy = new EvoType1TxnTypesData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		EvoType1TxnTypesData copy = new EvoType1TxnTypesData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "pkBigDecimalAttribute: "+(""+getPkBigDecimalAttribute())+ " / ";
+		result += "pkBooleanAttribute: "+(""+isPkBooleanAttribute())+ " / ";
+		result += "pkByteAttribute: "+(""+getPkByteAttribute())+ " / ";
+		result += "pkCharAttribute: "+(""+getPkCharAttribute())+ " / ";
+		result += "pkDateAttribute: "+PrintablePreparedStatement.dateFormat.print(getPkDateAttribute().getTime())+ " / ";
+		result += "pkDoubleAttribute: "+(""+getPkDoubleAttribute())+ " / ";
+		result += "pkFloatAttribute: "+(""+getPkFloatAttribute())+ " / ";
+		result += "pkIntAttribute: "+(""+getPkIntAttribute())+ " / ";
+		result += "pkLongAttribute: "+(""+getPkLongAttribute())+ " / ";
+		result += "pkShortAttribute: "+(""+getPkShortAttribute())+ " / ";
+		result += "pkStringAttribute: "+"'"+getPkStringAttribute()+"'"+ " / ";
+		result += "pkTimestampAttribute: "+(isPkTimestampAttributeNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getPkTimestampAttribute().getTime()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.evo.EvoType1TxnTypesData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return EvoType1TxnTypesFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return EvoType1TxnTypesFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.evo.EvoType1TxnTypesData";
+	}
+}
@@ -0,0 +1,1290 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class EvoType1TxnTypesDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "BOOLEAN_0,BYTE_0,CHAR_0,DATE_0,DOUBLE_0,FLOAT_0,INT_0,LONG_0,SHORT_0,STRING_0,TIMESTAMP_0,BOOLEAN_1,BYTE_1,CHAR_1,DATE_1,DOUBLE_1,FLOAT_1,INT_1,LONG_1,SHORT_1,STRING_1,TIMESTAMP_1,BIGDECIMAL_1,BOOLEAN_2,BYTE_2,CHAR_2,DATE_2,DOUBLE_2,FLOAT_2,INT_2,LONG_2,SHORT_2,STRING_2,TIMESTAMP_2,BIGDECIMAL_2,BOOLEAN_3,BYTE_3,CHAR_3,DATE_3,DOUBLE_3,FLOAT_3,INT_3,LONG_3,SHORT_3,STRING_3,TIMESTAMP_3,BIGDECIMAL_3";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.BOOLEAN_0,t0.BYTE_0,t0.CHAR_0,t0.DATE_0,t0.DOUBLE_0,t0.FLOAT_0,t0.INT_0,t0.LONG_0,t0.SHORT_0,t0.STRING_0,t0.TIMESTAMP_0,t0.BOOLEAN_1,t0.BYTE_1,t0.CHAR_1,t0.DATE_1,t0.DOUBLE_1,t0.FLOAT_1,t0.INT_1,t0.LONG_1,t0.SHORT_1,t0.STRING_1,t0.TIMESTAMP_1,t0.BIGDECIMAL_1,t0.BOOLEAN_2,t0.BYTE_2,t0.CHAR_2,t0.DATE_2,t0.DOUBLE_2,t0.FLOAT_2,t0.INT_2,t0.LONG_2,t0.SHORT_2,t0.STRING_2,t0.TIMESTAMP_2,t0.BIGDECIMAL_2,t0.BOOLEAN_3,t0.BYTE_3,t0.CHAR_3,t0.DATE_3,t0.DOUBLE_3,t0.FLOAT_3,t0.INT_3,t0.LONG_3,t0.SHORT_3,t0.STRING_3,t0.TIMESTAMP_3,t0.BIGDECIMAL_3";
+	private static final String PK_WITH_ALIAS = "t0.BOOLEAN_PK = ? AND t0.BYTE_PK = ? AND t0.CHAR_PK = ? AND t0.DATE_PK = ? AND t0.DOUBLE_PK = ? AND t0.FLOAT_PK = ? AND t0.INT_PK = ? AND t0.LONG_PK = ? AND t0.SHORT_PK = ? AND t0.STRING_PK = ? AND t0.TIMESTAMP_PK = ? AND t0.BIGDECIMAL_PK = ?";
+	private static final String PK_INDEX_COLS = "BOOLEAN_PK,BYTE_PK,CHAR_PK,DATE_PK,DOUBLE_PK,FLOAT_PK,INT_PK,LONG_PK,SHORT_PK,STRING_PK,TIMESTAMP_PK,BIGDECIMAL_PK";
+	protected EvoType1TxnTypesDatabaseObjectAbstract()
+	{
+		super("EvoType1TxnTypes", "com.gs.fw.common.mithra.test.domain.evo.EvoType1TxnTypesFinder",
+			59, 59,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EvoType1TxnTypesFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return EvoType1TxnTypesFinder.getFinderInstance();
+	}
+
+	public static EvoType1TxnTypesData allocateOnHeapData()
+	{
+		return new EvoType1TxnTypesData();
+	}
+
+	public static EvoType1TxnTypesData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new EvoType1TxnTypesData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		EvoType1TxnTypesData data = new EvoType1TxnTypesData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(EvoType1TxnTypesFinder.getPrimaryKeyAttributes(), this, EvoType1TxnTypesFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(EvoType1TxnTypesFinder.getPrimaryKeyAttributes(), this, EvoType1TxnTypesFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(EvoType1TxnTypesFinder.getPrimaryKeyAttributes(), this, EvoType1TxnTypesFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(EvoType1TxnTypesFinder.getPrimaryKeyAttributes(), this, EvoType1TxnTypesFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			EvoType1TxnTypesFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			EvoType1TxnTypesFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			EvoType1TxnTypes.zConfigFullTx();
+		}
+		else
+		{
+			EvoType1TxnTypes.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateEvoType1TxnTypesData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkEvoType1TxnTypesData(1, (EvoType1TxnTypesData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateEvoType1TxnTypesPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getEvoType1TxnTypesTableName();
+	}
+
+	public String getEvoType1TxnTypesTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		EvoType1TxnTypesData data = (EvoType1TxnTypesData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setBoolean(pos++, data.isPkBooleanAttribute());
+		stm.setByte(pos++, data.getPkByteAttribute());
+		stm.setString(pos++, String.valueOf(data.getPkCharAttribute()));
+		stm.setDate(pos++, data.getPkDateAttribute());
+		stm.setDouble(pos++, data.getPkDoubleAttribute());
+		stm.setFloat(pos++, data.getPkFloatAttribute());
+		stm.setInt(pos++, data.getPkIntAttribute());
+		stm.setLong(pos++, data.getPkLongAttribute());
+		stm.setShort(pos++, data.getPkShortAttribute());
+		stm.setString(pos++, data.getPkStringAttribute());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getPkTimestampAttribute(), false, conversionTimeZone);
+		pos++;
+		stm.setBigDecimal(pos++, data.getPkBigDecimalAttribute());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "BOOLEAN_PK = ? AND BYTE_PK = ? AND CHAR_PK = ? AND DATE_PK = ? AND DOUBLE_PK = ? AND FLOAT_PK = ? AND INT_PK = ? AND LONG_PK = ? AND SHORT_PK = ? AND STRING_PK = ? AND TIMESTAMP_PK = ? AND BIGDECIMAL_PK = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.BOOLEAN_PK,t0.BYTE_PK,t0.CHAR_PK,t0.DATE_PK,t0.DOUBLE_PK,t0.FLOAT_PK,t0.INT_PK,t0.LONG_PK,t0.SHORT_PK,t0.STRING_PK,t0.TIMESTAMP_PK,t0.BIGDECIMAL_PK,t0.BOOLEAN_0,t0.BYTE_0,t0.CHAR_0,t0.DATE_0,t0.DOUBLE_0,t0.FLOAT_0,t0.INT_0,t0.LONG_0,t0.SHORT_0,t0.STRING_0,t0.TIMESTAMP_0,t0.BOOLEAN_1,t0.BYTE_1,t0.CHAR_1,t0.DATE_1,t0.DOUBLE_1,t0.FLOAT_1,t0.INT_1,t0.LONG_1,t0.SHORT_1,t0.STRING_1,t0.TIMESTAMP_1,t0.BIGDECIMAL_1,t0.BOOLEAN_2,t0.BYTE_2,t0.CHAR_2,t0.DATE_2,t0.DOUBLE_2,t0.FLOAT_2,t0.INT_2,t0.LONG_2,t0.SHORT_2,t0.STRING_2,t0.TIMESTAMP_2,t0.BIGDECIMAL_2,t0.BOOLEAN_3,t0.BYTE_3,t0.CHAR_3,t0.DATE_3,t0.DOUBLE_3,t0.FLOAT_3,t0.INT_3,t0.LONG_3,t0.SHORT_3,t0.STRING_3,t0.TIMESTAMP_3,t0.BIGDECIMAL_3";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*59);
+		result.append(databaseAlias).append(".").append("BOOLEAN_PK");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_PK");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_PK");
+		result.append(",").append(databaseAlias).append(".").append("DATE_PK");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_PK");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_PK");
+		result.append(",").append(databaseAlias).append(".").append("INT_PK");
+		result.append(",").append(databaseAlias).append(".").append("LONG_PK");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_PK");
+		result.append(",").append(databaseAlias).append(".").append("STRING_PK");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_PK");
+		result.append(",").append(databaseAlias).append(".").append("BIGDECIMAL_PK");
+		result.append(",").append(databaseAlias).append(".").append("BOOLEAN_0");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_0");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_0");
+		result.append(",").append(databaseAlias).append(".").append("DATE_0");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_0");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_0");
+		result.append(",").append(databaseAlias).append(".").append("INT_0");
+		result.append(",").append(databaseAlias).append(".").append("LONG_0");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_0");
+		result.append(",").append(databaseAlias).append(".").append("STRING_0");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_0");
+		result.append(",").append(databaseAlias).append(".").append("BOOLEAN_1");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_1");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_1");
+		result.append(",").append(databaseAlias).append(".").append("DATE_1");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_1");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_1");
+		result.append(",").append(databaseAlias).append(".").append("INT_1");
+		result.append(",").append(databaseAlias).append(".").append("LONG_1");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_1");
+		result.append(",").append(databaseAlias).append(".").append("STRING_1");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_1");
+		result.append(",").append(databaseAlias).append(".").append("BIGDECIMAL_1");
+		result.append(",").append(databaseAlias).append(".").append("BOOLEAN_2");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_2");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_2");
+		result.append(",").append(databaseAlias).append(".").append("DATE_2");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_2");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_2");
+		result.append(",").append(databaseAlias).append(".").append("INT_2");
+		result.append(",").append(databaseAlias).append(".").append("LONG_2");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_2");
+		result.append(",").append(databaseAlias).append(".").append("STRING_2");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_2");
+		result.append(",").append(databaseAlias).append(".").append("BIGDECIMAL_2");
+		result.append(",").append(databaseAlias).append(".").append("BOOLEAN_3");
+		result.append(",").append(databaseAlias).append(".").append("BYTE_3");
+		result.append(",").append(databaseAlias).append(".").append("CHAR_3");
+		result.append(",").append(databaseAlias).append(".").append("DATE_3");
+		result.append(",").append(databaseAlias).append(".").append("DOUBLE_3");
+		result.append(",").append(databaseAlias).append(".").append("FLOAT_3");
+		result.append(",").append(databaseAlias).append(".").append("INT_3");
+		result.append(",").append(databaseAlias).append(".").append("LONG_3");
+		result.append(",").append(databaseAlias).append(".").append("SHORT_3");
+		result.append(",").append(databaseAlias).append(".").append("STRING_3");
+		result.append(",").append(databaseAlias).append(".").append("TIMESTAMP_3");
+		result.append(",").append(databaseAlias).append(".").append("BIGDECIMAL_3");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public EvoType1TxnTypesData inflateEvoType1TxnTypesData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		EvoType1TxnTypesData data = inflateEvoType1TxnTypesPkData(rs, dt);
+		inflateNonPkEvoType1TxnTypesData(13, data, rs, dt);
+		return data;
+	}
+
+	public EvoType1TxnTypesData inflateEvoType1TxnTypesPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		EvoType1TxnTypesData _data = new EvoType1TxnTypesData();
+		int _pos = 1;
+		_data.setPkBooleanAttribute(_rs.getBoolean(_pos++));
+		checkNullPrimitive(_rs, _data, "pkBooleanAttribute");
+		_data.setPkByteAttribute(_rs.getByte(_pos++));
+		checkNullPrimitive(_rs, _data, "pkByteAttribute");
+		String pkCharAttributeCharValue = _rs.getString(_pos++);
+		boolean pkCharAttributeCharValueisNull = pkCharAttributeCharValue == null || pkCharAttributeCharValue.length() < 1;
+		if(!pkCharAttributeCharValueisNull)
+		{
+			if(pkCharAttributeCharValue.length() > 1)
+			{
+				throw new SQLException("attribute defined as char, but is more than one character long in database");
+			}
+			else if(pkCharAttributeCharValue.length() == 1)
+			{
+				_data.setPkCharAttribute(pkCharAttributeCharValue.charAt(0));
+			}
+		}
+		else
+		{
+			throw new MithraBusinessException("attribute ' pkCharAttribute ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+		}
+
+		_data.setPkDateAttribute(_rs.getDate(_pos++));
+		checkNullPrimitive(_rs, _data, "pkDateAttribute");
+		_data.setPkDoubleAttribute(_rs.getDouble(_pos++));
+		checkNullPrimitive(_rs, _data, "pkDoubleAttribute");
+		_data.setPkFloatAttribute(_rs.getFloat(_pos++));
+		checkNullPrimitive(_rs, _data, "pkFloatAttribute");
+		_data.setPkIntAttribute(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "pkIntAttribute");
+		_data.setPkLongAttribute(_rs.getLong(_pos++));
+		checkNullPrimitive(_rs, _data, "pkLongAttribute");
+		_data.setPkShortAttribute(_rs.getShort(_pos++));
+		checkNullPrimitive(_rs, _data, "pkShortAttribute");
+		_data.setPkStringAttribute(trimString(_rs.getString(_pos++)));
+		Timestamp pkTimestampAttributetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setPkTimestampAttribute(pkTimestampAttributetimestampValue);
+		_data.setPkBigDecimalAttribute(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 2));
+		checkNullPrimitive(_rs, _data, "pkBigDecimalAttribute");
+		return _data;
+	}
+
+	public void inflateNonPkEvoType1TxnTypesData(int _pos, EvoType1TxnTypesData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			EvoType1TxnTypesData _data = _datax;
+			_data.setBooleanAttribute(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBooleanAttributeNull();
+			}
+
+			_data.setByteAttribute(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setByteAttributeNull();
+			}
+
+			String charAttributeCharValue = _rs.getString(_pos++);
+			boolean charAttributeCharValueisNull = charAttributeCharValue == null || charAttributeCharValue.length() < 1;
+			if(!charAttributeCharValueisNull)
+			{
+				if(charAttributeCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(charAttributeCharValue.length() == 1)
+				{
+					_data.setCharAttribute(charAttributeCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setCharAttributeNull();
+			}
+
+			_data.setDateAttribute(_rs.getDate(_pos++));
+			_data.setDoubleAttribute(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDoubleAttributeNull();
+			}
+
+			_data.setFloatAttribute(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFloatAttributeNull();
+			}
+
+			_data.setIntAttribute(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setIntAttributeNull();
+			}
+
+			_data.setLongAttribute(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setLongAttributeNull();
+			}
+
+			_data.setShortAttribute(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setShortAttributeNull();
+			}
+
+			_data.setStringAttribute(trimString(_rs.getString(_pos++)));
+			Timestamp timestampAttributetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setTimestampAttribute(timestampAttributetimestampValue);
+			_data.setRootEvoBooleanAttribute(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoBooleanAttributeNull();
+			}
+
+			_data.setRootEvoByteAttribute(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoByteAttributeNull();
+			}
+
+			String rootEvoCharAttributeCharValue = _rs.getString(_pos++);
+			boolean rootEvoCharAttributeCharValueisNull = rootEvoCharAttributeCharValue == null || rootEvoCharAttributeCharValue.length() < 1;
+			if(!rootEvoCharAttributeCharValueisNull)
+			{
+				if(rootEvoCharAttributeCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(rootEvoCharAttributeCharValue.length() == 1)
+				{
+					_data.setRootEvoCharAttribute(rootEvoCharAttributeCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setRootEvoCharAttributeNull();
+			}
+
+			_data.setRootEvoDateAttribute(_rs.getDate(_pos++));
+			_data.setRootEvoDoubleAttribute(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoDoubleAttributeNull();
+			}
+
+			_data.setRootEvoFloatAttribute(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoFloatAttributeNull();
+			}
+
+			_data.setRootEvoIntAttribute(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoIntAttributeNull();
+			}
+
+			_data.setRootEvoLongAttribute(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoLongAttributeNull();
+			}
+
+			_data.setRootEvoShortAttribute(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoShortAttributeNull();
+			}
+
+			_data.setRootEvoStringAttribute(trimString(_rs.getString(_pos++)));
+			Timestamp rootEvoTimestampAttributetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setRootEvoTimestampAttribute(rootEvoTimestampAttributetimestampValue);
+			_data.setRootEvoBigDecimalAttribute(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 18, 3));
+			_data.setRootEvoNestedEvoBooleanAttribute(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoBooleanAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoByteAttribute(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoByteAttributeNull();
+			}
+
+			String rootEvoNestedEvoCharAttributeCharValue = _rs.getString(_pos++);
+			boolean rootEvoNestedEvoCharAttributeCharValueisNull = rootEvoNestedEvoCharAttributeCharValue == null || rootEvoNestedEvoCharAttributeCharValue.length() < 1;
+			if(!rootEvoNestedEvoCharAttributeCharValueisNull)
+			{
+				if(rootEvoNestedEvoCharAttributeCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(rootEvoNestedEvoCharAttributeCharValue.length() == 1)
+				{
+					_data.setRootEvoNestedEvoCharAttribute(rootEvoNestedEvoCharAttributeCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setRootEvoNestedEvoCharAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoDateAttribute(_rs.getDate(_pos++));
+			_data.setRootEvoNestedEvoDoubleAttribute(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoDoubleAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoFloatAttribute(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoFloatAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoIntAttribute(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoIntAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoLongAttribute(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoLongAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoShortAttribute(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoShortAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoStringAttribute(trimString(_rs.getString(_pos++)));
+			Timestamp rootEvoNestedEvoTimestampAttributetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setRootEvoNestedEvoTimestampAttribute(rootEvoNestedEvoTimestampAttributetimestampValue);
+			_data.setRootEvoNestedEvoBigDecimalAttribute(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 18, 3));
+			_data.setRootEvoNestedEvoLeafEvoBooleanAttribute(_rs.getBoolean(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoLeafEvoByteAttribute(_rs.getByte(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+
+			String rootEvoNestedEvoLeafEvoCharAttributeCharValue = _rs.getString(_pos++);
+			boolean rootEvoNestedEvoLeafEvoCharAttributeCharValueisNull = rootEvoNestedEvoLeafEvoCharAttributeCharValue == null || rootEvoNestedEvoLeafEvoCharAttributeCharValue.length() < 1;
+			if(!rootEvoNestedEvoLeafEvoCharAttributeCharValueisNull)
+			{
+				if(rootEvoNestedEvoLeafEvoCharAttributeCharValue.length() > 1)
+				{
+					throw new SQLException("attribute defined as char, but is more than one character long in database");
+				}
+				else if(rootEvoNestedEvoLeafEvoCharAttributeCharValue.length() == 1)
+				{
+					_data.setRootEvoNestedEvoLeafEvoCharAttribute(rootEvoNestedEvoLeafEvoCharAttributeCharValue.charAt(0));
+				}
+			}
+			else
+			{
+				_data.setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoLeafEvoDateAttribute(_rs.getDate(_pos++));
+			_data.setRootEvoNestedEvoLeafEvoDoubleAttribute(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoLeafEvoFloatAttribute(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoLeafEvoIntAttribute(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoLeafEvoLongAttribute(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoLeafEvoShortAttribute(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+
+			_data.setRootEvoNestedEvoLeafEvoStringAttribute(trimString(_rs.getString(_pos++)));
+			Timestamp rootEvoNestedEvoLeafEvoTimestampAttributetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setRootEvoNestedEvoLeafEvoTimestampAttribute(rootEvoNestedEvoLeafEvoTimestampAttributetimestampValue);
+			_data.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(com.gs.fw.common.mithra.util.BigDecimalUtil.validateBigDecimalValue(_rs.getBigDecimal(_pos++), 10, 2));
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "EVO_TYPE1_TXN_TYPES";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		EvoType1TxnTypesData data = (EvoType1TxnTypesData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if (data.isBooleanAttributeNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isBooleanAttribute());
+		}
+
+		if (data.isByteAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getByteAttribute());
+		}
+
+		if (data.isCharAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getCharAttribute()));
+		}
+
+		if (data.isDateAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getDateAttribute());
+		}
+
+		if (data.isDoubleAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getDoubleAttribute());
+		}
+
+		if (data.isFloatAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getFloatAttribute());
+		}
+
+		if (data.isIntAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getIntAttribute());
+		}
+
+		if (data.isLongAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getLongAttribute());
+		}
+
+		if (data.isShortAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getShortAttribute());
+		}
+
+		if (data.isStringAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getStringAttribute());
+		}
+
+		if (data.isTimestampAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getTimestampAttribute(), false, conversionTimeZone);
+			pos++;
+		}
+
+		stm.setBoolean(pos++, data.isPkBooleanAttribute());
+		stm.setByte(pos++, data.getPkByteAttribute());
+		stm.setString(pos++, String.valueOf(data.getPkCharAttribute()));
+		if(data.isPkDateAttributeNull())
+		{
+			throwNullAttribute("pkDateAttribute");
+		}
+
+		stm.setDate(pos++, data.getPkDateAttribute());
+		stm.setDouble(pos++, data.getPkDoubleAttribute());
+		stm.setFloat(pos++, data.getPkFloatAttribute());
+		stm.setInt(pos++, data.getPkIntAttribute());
+		stm.setLong(pos++, data.getPkLongAttribute());
+		stm.setShort(pos++, data.getPkShortAttribute());
+		if(data.isPkStringAttributeNull())
+		{
+			throwNullAttribute("pkStringAttribute");
+		}
+
+		stm.setString(pos++, data.getPkStringAttribute());
+		if(data.isPkTimestampAttributeNull())
+		{
+			throwNullAttribute("pkTimestampAttribute");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getPkTimestampAttribute(), false, conversionTimeZone);
+		pos++;
+		if(data.isPkBigDecimalAttributeNull())
+		{
+			throwNullAttribute("pkBigDecimalAttribute");
+		}
+
+		stm.setBigDecimal(pos++, data.getPkBigDecimalAttribute());
+		if (data.isRootEvoBooleanAttributeNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isRootEvoBooleanAttribute());
+		}
+
+		if (data.isRootEvoByteAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getRootEvoByteAttribute());
+		}
+
+		if (data.isRootEvoCharAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getRootEvoCharAttribute()));
+		}
+
+		if (data.isRootEvoDateAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getRootEvoDateAttribute());
+		}
+
+		if (data.isRootEvoDoubleAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getRootEvoDoubleAttribute());
+		}
+
+		if (data.isRootEvoFloatAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getRootEvoFloatAttribute());
+		}
+
+		if (data.isRootEvoIntAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getRootEvoIntAttribute());
+		}
+
+		if (data.isRootEvoLongAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getRootEvoLongAttribute());
+		}
+
+		if (data.isRootEvoShortAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getRootEvoShortAttribute());
+		}
+
+		if (data.isRootEvoStringAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getRootEvoStringAttribute());
+		}
+
+		if (data.isRootEvoTimestampAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getRootEvoTimestampAttribute(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isRootEvoBigDecimalAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getRootEvoBigDecimalAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoBooleanAttributeNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isRootEvoNestedEvoBooleanAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoByteAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getRootEvoNestedEvoByteAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoCharAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getRootEvoNestedEvoCharAttribute()));
+		}
+
+		if (data.isRootEvoNestedEvoDateAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getRootEvoNestedEvoDateAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoDoubleAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getRootEvoNestedEvoDoubleAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoFloatAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getRootEvoNestedEvoFloatAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoIntAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getRootEvoNestedEvoIntAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLongAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getRootEvoNestedEvoLongAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoShortAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getRootEvoNestedEvoShortAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoStringAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getRootEvoNestedEvoStringAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoTimestampAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getRootEvoNestedEvoTimestampAttribute(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isRootEvoNestedEvoBigDecimalAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getRootEvoNestedEvoBigDecimalAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull())
+		{
+			stm.setNull(pos++, dt.getNullableBooleanJavaSqlType());
+		}
+		else
+		{
+			stm.setBoolean(pos++, data.isRootEvoNestedEvoLeafEvoBooleanAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TINYINT);
+		}
+		else
+		{
+			stm.setByte(pos++, data.getRootEvoNestedEvoLeafEvoByteAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.CHAR);
+		}
+		else
+		{
+			stm.setString(pos++, String.valueOf(data.getRootEvoNestedEvoLeafEvoCharAttribute()));
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoDateAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getRootEvoNestedEvoLeafEvoDateAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DOUBLE);
+		}
+		else
+		{
+			stm.setDouble(pos++, data.getRootEvoNestedEvoLeafEvoDoubleAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.FLOAT);
+		}
+		else
+		{
+			stm.setFloat(pos++, data.getRootEvoNestedEvoLeafEvoFloatAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getRootEvoNestedEvoLeafEvoIntAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.BIGINT);
+		}
+		else
+		{
+			stm.setLong(pos++, data.getRootEvoNestedEvoLeafEvoLongAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.SMALLINT);
+		}
+		else
+		{
+			stm.setShort(pos++, data.getRootEvoNestedEvoLeafEvoShortAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoStringAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getRootEvoNestedEvoLeafEvoStringAttribute());
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoTimestampAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getRootEvoNestedEvoLeafEvoTimestampAttribute(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DECIMAL);
+		}
+		else
+		{
+			stm.setBigDecimal(pos++, data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "BOOLEAN_0,BYTE_0,CHAR_0,DATE_0,DOUBLE_0,FLOAT_0,INT_0,LONG_0,SHORT_0,STRING_0,TIMESTAMP_0,BOOLEAN_PK,BYTE_PK,CHAR_PK,DATE_PK,DOUBLE_PK,FLOAT_PK,INT_PK,LONG_PK,SHORT_PK,STRING_PK,TIMESTAMP_PK,BIGDECIMAL_PK,BOOLEAN_1,BYTE_1,CHAR_1,DATE_1,DOUBLE_1,FLOAT_1,INT_1,LONG_1,SHORT_1,STRING_1,TIMESTAMP_1,BIGDECIMAL_1,BOOLEAN_2,BYTE_2,CHAR_2,DATE_2,DOUBLE_2,FLOAT_2,INT_2,LONG_2,SHORT_2,STRING_2,TIMESTAMP_2,BIGDECIMAL_2,BOOLEAN_3,BYTE_3,CHAR_3,DATE_3,DOUBLE_3,FLOAT_3,INT_3,LONG_3,SHORT_3,STRING_3,TIMESTAMP_3,BIGDECIMAL_3";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		EvoType1TxnTypes newObject = constructEvoType1TxnTypes(newData);
+		newObject.zSetFromEvoType1TxnTypesData((EvoType1TxnTypesData) newData);
+		return newObject;
+	}
+
+	protected abstract EvoType1TxnTypes constructEvoType1TxnTypes(MithraDataObject data);
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.BOOLEAN_PK,t0.BYTE_PK,t0.CHAR_PK,t0.DATE_PK,t0.DOUBLE_PK,t0.FLOAT_PK,t0.INT_PK,t0.LONG_PK,t0.SHORT_PK,t0.STRING_PK,t0.TIMESTAMP_PK,t0.BIGDECIMAL_PK";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*59);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("BOOLEAN_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("BYTE_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("CHAR_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DATE_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DOUBLE_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("FLOAT_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("INT_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("LONG_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SHORT_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("STRING_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("TIMESTAMP_PK");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("BIGDECIMAL_PK");
+		return result.toString();
+	}
+}
@@ -0,0 +1,5305 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EvoType1TxnTypesFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/evo/EvoType1TxnTypes";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.evo.EvoType1TxnTypes";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1TxnTypes");
+	private static final EvoType1TxnTypesSingleFinder<EvoType1TxnTypes, Object, EvoType1TxnTypes> finder = new EvoType1TxnTypesSingleFinder<EvoType1TxnTypes, Object, EvoType1TxnTypes>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(EvoType1TxnTypesFinder.EvoType1TxnTypesRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("booleanAttribute");
+		finderMethodMap.addNormalAttributeName("byteAttribute");
+		finderMethodMap.addNormalAttributeName("charAttribute");
+		finderMethodMap.addNormalAttributeName("dateAttribute");
+		finderMethodMap.addNormalAttributeName("doubleAttribute");
+		finderMethodMap.addNormalAttributeName("floatAttribute");
+		finderMethodMap.addNormalAttributeName("intAttribute");
+		finderMethodMap.addNormalAttributeName("longAttribute");
+		finderMethodMap.addNormalAttributeName("shortAttribute");
+		finderMethodMap.addNormalAttributeName("stringAttribute");
+		finderMethodMap.addNormalAttributeName("timestampAttribute");
+		finderMethodMap.addNormalAttributeName("pkBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("pkByteAttribute");
+		finderMethodMap.addNormalAttributeName("pkCharAttribute");
+		finderMethodMap.addNormalAttributeName("pkDateAttribute");
+		finderMethodMap.addNormalAttributeName("pkDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("pkFloatAttribute");
+		finderMethodMap.addNormalAttributeName("pkIntAttribute");
+		finderMethodMap.addNormalAttributeName("pkLongAttribute");
+		finderMethodMap.addNormalAttributeName("pkShortAttribute");
+		finderMethodMap.addNormalAttributeName("pkStringAttribute");
+		finderMethodMap.addNormalAttributeName("pkTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("pkBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBigDecimalAttribute");
+		finderMethodMap.addRelationshipName("rootEvoOrder");
+		finderMethodMap.addRelationshipName("rootEvoNestedEvoOrderStatus");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = EvoType1TxnTypesFinder.rootEvoIntAttribute().constructEqualityMapper(OrderFinder.orderId());
+			result[1] = OrderFinder.orderId().constructEqualityMapper(EvoType1TxnTypesFinder.rootEvoIntAttribute());
+			result[2] = EvoType1TxnTypesFinder.rootEvoNestedEvoIntAttribute().constructEqualityMapper(OrderStatusFinder.orderId());
+			result[3] = OrderStatusFinder.orderId().constructEqualityMapper(EvoType1TxnTypesFinder.rootEvoNestedEvoIntAttribute());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static EvoType1TxnTypes findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static EvoType1TxnTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static EvoType1TxnTypesList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1TxnTypesList) finder.findMany(operation);
+	}
+
+	public static EvoType1TxnTypesList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType1TxnTypesList) finder.findManyBypassCache(operation);
+	}
+
+	private static EvoType1TxnTypes findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (EvoType1TxnTypes) FinderUtils.findOne(found);
+	}
+
+	public static EvoType1TxnTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute)
+	{
+		return finder.findByPrimaryKey(pkBooleanAttribute, pkByteAttribute, pkCharAttribute, pkDateAttribute, pkDoubleAttribute, pkFloatAttribute, pkIntAttribute, pkLongAttribute, pkShortAttribute, pkStringAttribute, pkTimestampAttribute, pkBigDecimalAttribute);
+	}
+
+	public static EvoType1TxnTypes zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (EvoType1TxnTypes) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class EvoType1TxnTypesPkAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType1TxnTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1TxnTypesPkAttribute(EvoType1TxnTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1TxnTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TxnTypes) o).getPk();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1TxnTypes) o).copyPk(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesLeafValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.pkBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.pkByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.pkCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.pkDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.pkDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.pkFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.pkIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.pkLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.pkShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.pkStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.pkTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.pkBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.pk();
+		}
+	}
+
+	public static class EvoType1TxnTypesRootEvoAttribute extends EvoTypesRoot.ManagedEvoTypesRootAttribute
+	{
+		private final EvoType1TxnTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, Order> order;
+		public EvoType1TxnTypesRootEvoAttribute(EvoType1TxnTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.order = new EvoType1TxnTypesRootEvoAttributeOrderExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1TxnTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesRoot.class;
+		}
+
+		public EvoTypesRoot evoTypesRootValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TxnTypes) o).getRootEvo();
+		}
+
+		public void setEvoTypesRootValue(Object o, EvoTypesRoot newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1TxnTypes) o).copyRootEvo(newValue);
+		}
+
+		public void setEvoTypesRootValueUntil(Object o, EvoTypesRoot newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesRootValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoBigDecimalAttribute();
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses order()
+		{
+			return this.finder.rootEvoOrder();
+		}
+
+		public Extractor<Object, Order> zOrderExtractor()
+		{
+			return this.order;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses orderWithDate(Timestamp date)
+		{
+			return this.finder.rootEvoOrderWithDate(date);
+		}
+
+		public Extractor<Object, Order> zOrderWithDateExtractor(Timestamp date)
+		{
+			return new EvoType1TxnTypesRootEvoAttributeOrderWithDateExtractor(this.parentSelector, date);
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute nestedEvo()
+		{
+			return this.finder.rootEvoNestedEvo();
+		}
+
+		protected EvoTypesRoot.ManagedEvoTypesRootAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo();
+		}
+	}
+
+	public static class EvoType1TxnTypesRootEvoAttributeOrderExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1TxnTypesRootEvoAttributeOrderExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TxnTypes) o).getRootEvoOrder();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType1TxnTypes) o).setRootEvoOrder((Order) o);
+		}
+	}
+
+	public static class EvoType1TxnTypesRootEvoAttributeOrderWithDateExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private Timestamp date;
+		public EvoType1TxnTypesRootEvoAttributeOrderWithDateExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , Timestamp date)
+		{
+			this.parentSelector = parentSelector;
+			this.date = date;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TxnTypes) o).getRootEvoOrderWithDate(date);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType1TxnTypesRootEvoNestedEvoAttribute extends EvoTypesNested.ManagedEvoTypesNestedAttribute
+	{
+		private final EvoType1TxnTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, OrderStatus> orderStatus;
+		public EvoType1TxnTypesRootEvoNestedEvoAttribute(EvoType1TxnTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.orderStatus = new EvoType1TxnTypesRootEvoNestedEvoAttributeOrderStatusExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1TxnTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesNested.class;
+		}
+
+		public EvoTypesNested evoTypesNestedValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvo();
+		}
+
+		public void setEvoTypesNestedValue(Object o, EvoTypesNested newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1TxnTypes) o).copyRootEvoNestedEvo(newValue);
+		}
+
+		public void setEvoTypesNestedValueUntil(Object o, EvoTypesNested newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesNestedValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatus()
+		{
+			return this.finder.rootEvoNestedEvoOrderStatus();
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusExtractor()
+		{
+			return this.orderStatus;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatusWithStatus(int status)
+		{
+			return this.finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusWithStatusExtractor(int status)
+		{
+			return new EvoType1TxnTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(this.parentSelector, status);
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute leafEvo()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvo();
+		}
+
+		protected EvoTypesNested.ManagedEvoTypesNestedAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo();
+		}
+	}
+
+	public static class EvoType1TxnTypesRootEvoNestedEvoAttributeOrderStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1TxnTypesRootEvoNestedEvoAttributeOrderStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoOrderStatus();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType1TxnTypes) o).setRootEvoNestedEvoOrderStatus((OrderStatus) o);
+		}
+	}
+
+	public static class EvoType1TxnTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private int status;
+		public EvoType1TxnTypesRootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , int status)
+		{
+			this.parentSelector = parentSelector;
+			this.status = status;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType1TxnTypesRelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoAttribute(EvoType1TxnTypesRelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType1TxnTypesFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvo();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType1TxnTypes) o).copyRootEvoNestedEvoLeafEvo(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			throw new UnsupportedOperationException("setEvoTypesLeafValueUntil is only implemented for dated objects.");
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo().leafEvo();
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1TxnTypesPkBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_PK","","pkBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isPkBooleanAttribute();
+			return ((EvoType1TxnTypes) o).isPkBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1TxnTypesPkByteAttributeAttribute()
+		{
+			super("BYTE_PK","","pkByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkByteAttribute();
+			return ((EvoType1TxnTypes) o).getPkByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1TxnTypesPkCharAttributeAttribute()
+		{
+			super("CHAR_PK","","pkCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkCharAttribute();
+			return ((EvoType1TxnTypes) o).getPkCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1TxnTypesPkDateAttributeAttribute()
+		{
+			super("DATE_PK","","pkDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkDateAttribute();
+			return ((EvoType1TxnTypes) o).getPkDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1TxnTypesPkDoubleAttributeAttribute()
+		{
+			super("DOUBLE_PK","","pkDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkDoubleAttribute();
+			return ((EvoType1TxnTypes) o).getPkDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1TxnTypesPkFloatAttributeAttribute()
+		{
+			super("FLOAT_PK","","pkFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkFloatAttribute();
+			return ((EvoType1TxnTypes) o).getPkFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1TxnTypesPkIntAttributeAttribute()
+		{
+			super("INT_PK","","pkIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkIntAttribute();
+			return ((EvoType1TxnTypes) o).getPkIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1TxnTypesPkLongAttributeAttribute()
+		{
+			super("LONG_PK","","pkLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkLongAttribute();
+			return ((EvoType1TxnTypes) o).getPkLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1TxnTypesPkShortAttributeAttribute()
+		{
+			super("SHORT_PK","","pkShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkShortAttribute();
+			return ((EvoType1TxnTypes) o).getPkShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1TxnTypesPkStringAttributeAttribute()
+		{
+			super("STRING_PK","","pkStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkStringAttribute();
+			return ((EvoType1TxnTypes) o).getPkStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1TxnTypesPkTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_PK","","pkTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkTimestampAttribute();
+			return ((EvoType1TxnTypes) o).getPkTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesPkBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1TxnTypesPkBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_PK","","pkBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,finder,null,true,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getPkBigDecimalAttribute();
+			return ((EvoType1TxnTypes) o).getPkBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setPkBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setPkBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1TxnTypesRootEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_1","","rootEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoBooleanAttribute();
+			return ((EvoType1TxnTypes) o).isRootEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoBooleanAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1TxnTypesRootEvoByteAttributeAttribute()
+		{
+			super("BYTE_1","","rootEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoByteAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoByteAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1TxnTypesRootEvoCharAttributeAttribute()
+		{
+			super("CHAR_1","","rootEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoCharAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoCharAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1TxnTypesRootEvoDateAttributeAttribute()
+		{
+			super("DATE_1","","rootEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoDateAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1TxnTypesRootEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_1","","rootEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoDoubleAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoDoubleAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1TxnTypesRootEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_1","","rootEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoFloatAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoFloatAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1TxnTypesRootEvoIntAttributeAttribute()
+		{
+			super("INT_1","","rootEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoIntAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoIntAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1TxnTypesRootEvoLongAttributeAttribute()
+		{
+			super("LONG_1","","rootEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoLongAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoLongAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1TxnTypesRootEvoShortAttributeAttribute()
+		{
+			super("SHORT_1","","rootEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoShortAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoShortAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1TxnTypesRootEvoStringAttributeAttribute()
+		{
+			super("STRING_1","","rootEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoStringAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1TxnTypesRootEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_1","","rootEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoTimestampAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1TxnTypesRootEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_1","","rootEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoBigDecimalAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_2","","rootEvoNestedEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoBooleanAttribute();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoBooleanAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoByteAttributeAttribute()
+		{
+			super("BYTE_2","","rootEvoNestedEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoByteAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoByteAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoCharAttributeAttribute()
+		{
+			super("CHAR_2","","rootEvoNestedEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoCharAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoCharAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoDateAttributeAttribute()
+		{
+			super("DATE_2","","rootEvoNestedEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoDateAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_2","","rootEvoNestedEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoDoubleAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoDoubleAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_2","","rootEvoNestedEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoFloatAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoFloatAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoIntAttributeAttribute()
+		{
+			super("INT_2","","rootEvoNestedEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoIntAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoIntAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLongAttributeAttribute()
+		{
+			super("LONG_2","","rootEvoNestedEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLongAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLongAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoShortAttributeAttribute()
+		{
+			super("SHORT_2","","rootEvoNestedEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoShortAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoShortAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoStringAttributeAttribute()
+		{
+			super("STRING_2","","rootEvoNestedEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoStringAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_2","","rootEvoNestedEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoTimestampAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_2","","rootEvoNestedEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoBigDecimalAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_3","","rootEvoNestedEvoLeafEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute()
+		{
+			super("BYTE_3","","rootEvoNestedEvoLeafEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute()
+		{
+			super("CHAR_3","","rootEvoNestedEvoLeafEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute()
+		{
+			super("DATE_3","","rootEvoNestedEvoLeafEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_3","","rootEvoNestedEvoLeafEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_3","","rootEvoNestedEvoLeafEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute()
+		{
+			super("INT_3","","rootEvoNestedEvoLeafEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute()
+		{
+			super("LONG_3","","rootEvoNestedEvoLeafEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute()
+		{
+			super("SHORT_3","","rootEvoNestedEvoLeafEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+			return ((EvoType1TxnTypes) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute()
+		{
+			super("STRING_3","","rootEvoNestedEvoLeafEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_3","","rootEvoNestedEvoLeafEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType1TxnTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_3","","rootEvoNestedEvoLeafEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,finder,null,true,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType1TxnTypesData) return ((EvoType1TxnTypesData) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return ((EvoType1TxnTypes) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType1TxnTypesData)
+			{
+				((EvoType1TxnTypesData) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType1TxnTypes) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	public static class EvoType1TxnTypesRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<EvoType1TxnTypes, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private BooleanAttribute<ParentOwnerType> booleanAttribute;
+		private ByteAttribute<ParentOwnerType> byteAttribute;
+		private CharAttribute<ParentOwnerType> charAttribute;
+		private DateAttribute<ParentOwnerType> dateAttribute;
+		private DoubleAttribute<ParentOwnerType> doubleAttribute;
+		private FloatAttribute<ParentOwnerType> floatAttribute;
+		private IntegerAttribute<ParentOwnerType> intAttribute;
+		private LongAttribute<ParentOwnerType> longAttribute;
+		private ShortAttribute<ParentOwnerType> shortAttribute;
+		private StringAttribute<ParentOwnerType> stringAttribute;
+		private TimestampAttribute<ParentOwnerType> timestampAttribute;
+		private BooleanAttribute<ParentOwnerType> pkBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> pkByteAttribute;
+		private CharAttribute<ParentOwnerType> pkCharAttribute;
+		private DateAttribute<ParentOwnerType> pkDateAttribute;
+		private DoubleAttribute<ParentOwnerType> pkDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> pkFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> pkIntAttribute;
+		private LongAttribute<ParentOwnerType> pkLongAttribute;
+		private ShortAttribute<ParentOwnerType> pkShortAttribute;
+		private StringAttribute<ParentOwnerType> pkStringAttribute;
+		private TimestampAttribute<ParentOwnerType> pkTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+		private EvoType1TxnTypesRootEvoOrderFinderSubclass<ParentOwnerType> rootEvoOrder;
+		private EvoType1TxnTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> rootEvoNestedEvoOrderStatus;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk;
+		private EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo;
+		private EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo;
+		public EvoType1TxnTypesRelatedFinder()
+		{
+			super();
+		}
+
+		public EvoType1TxnTypesRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.evo.EvoType1TxnTypesFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return EvoType1TxnTypesFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return EvoType1TxnTypesFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return EvoType1TxnTypesFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[59];
+			attributes[0] = this.booleanAttribute();
+			attributes[1] = this.byteAttribute();
+			attributes[2] = this.charAttribute();
+			attributes[3] = this.dateAttribute();
+			attributes[4] = this.doubleAttribute();
+			attributes[5] = this.floatAttribute();
+			attributes[6] = this.intAttribute();
+			attributes[7] = this.longAttribute();
+			attributes[8] = this.shortAttribute();
+			attributes[9] = this.stringAttribute();
+			attributes[10] = this.timestampAttribute();
+			attributes[11] = this.pkBooleanAttribute();
+			attributes[12] = this.pkByteAttribute();
+			attributes[13] = this.pkCharAttribute();
+			attributes[14] = this.pkDateAttribute();
+			attributes[15] = this.pkDoubleAttribute();
+			attributes[16] = this.pkFloatAttribute();
+			attributes[17] = this.pkIntAttribute();
+			attributes[18] = this.pkLongAttribute();
+			attributes[19] = this.pkShortAttribute();
+			attributes[20] = this.pkStringAttribute();
+			attributes[21] = this.pkTimestampAttribute();
+			attributes[22] = this.pkBigDecimalAttribute();
+			attributes[23] = this.rootEvoBooleanAttribute();
+			attributes[24] = this.rootEvoByteAttribute();
+			attributes[25] = this.rootEvoCharAttribute();
+			attributes[26] = this.rootEvoDateAttribute();
+			attributes[27] = this.rootEvoDoubleAttribute();
+			attributes[28] = this.rootEvoFloatAttribute();
+			attributes[29] = this.rootEvoIntAttribute();
+			attributes[30] = this.rootEvoLongAttribute();
+			attributes[31] = this.rootEvoShortAttribute();
+			attributes[32] = this.rootEvoStringAttribute();
+			attributes[33] = this.rootEvoTimestampAttribute();
+			attributes[34] = this.rootEvoBigDecimalAttribute();
+			attributes[35] = this.rootEvoNestedEvoBooleanAttribute();
+			attributes[36] = this.rootEvoNestedEvoByteAttribute();
+			attributes[37] = this.rootEvoNestedEvoCharAttribute();
+			attributes[38] = this.rootEvoNestedEvoDateAttribute();
+			attributes[39] = this.rootEvoNestedEvoDoubleAttribute();
+			attributes[40] = this.rootEvoNestedEvoFloatAttribute();
+			attributes[41] = this.rootEvoNestedEvoIntAttribute();
+			attributes[42] = this.rootEvoNestedEvoLongAttribute();
+			attributes[43] = this.rootEvoNestedEvoShortAttribute();
+			attributes[44] = this.rootEvoNestedEvoStringAttribute();
+			attributes[45] = this.rootEvoNestedEvoTimestampAttribute();
+			attributes[46] = this.rootEvoNestedEvoBigDecimalAttribute();
+			attributes[47] = this.rootEvoNestedEvoLeafEvoBooleanAttribute();
+			attributes[48] = this.rootEvoNestedEvoLeafEvoByteAttribute();
+			attributes[49] = this.rootEvoNestedEvoLeafEvoCharAttribute();
+			attributes[50] = this.rootEvoNestedEvoLeafEvoDateAttribute();
+			attributes[51] = this.rootEvoNestedEvoLeafEvoDoubleAttribute();
+			attributes[52] = this.rootEvoNestedEvoLeafEvoFloatAttribute();
+			attributes[53] = this.rootEvoNestedEvoLeafEvoIntAttribute();
+			attributes[54] = this.rootEvoNestedEvoLeafEvoLongAttribute();
+			attributes[55] = this.rootEvoNestedEvoLeafEvoShortAttribute();
+			attributes[56] = this.rootEvoNestedEvoLeafEvoStringAttribute();
+			attributes[57] = this.rootEvoNestedEvoLeafEvoTimestampAttribute();
+			attributes[58] = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.rootEvoOrder());
+				relatedFinders.add(this.rootEvoNestedEvoOrderStatus());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public EvoType1TxnTypes findOne(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1TxnTypesFinder.findOne(operation, false);
+		}
+
+		public EvoType1TxnTypes findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType1TxnTypesFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends EvoType1TxnTypes> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new EvoType1TxnTypesList((Operation) operation);
+		}
+
+		public MithraList<? extends EvoType1TxnTypes> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			EvoType1TxnTypesList result = (EvoType1TxnTypesList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends EvoType1TxnTypes> constructEmptyList()
+		{
+			return new EvoType1TxnTypesList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -299040579;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.pk;
+			if (result == null)
+			{
+				result = new EvoType1TxnTypesPkAttribute(this, this.zGetValueSelector());
+			}
+
+			this.pk = result;
+			return result;
+		}
+
+		public EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+		{
+			EvoTypesRoot.ManagedEvoTypesRootAttribute result = this.rootEvo;
+			if (result == null)
+			{
+				result = new EvoType1TxnTypesRootEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvo = result;
+			return result;
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+		{
+			EvoTypesNested.ManagedEvoTypesNestedAttribute result = this.rootEvoNestedEvo;
+			if (result == null)
+			{
+				result = new EvoType1TxnTypesRootEvoNestedEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvo = result;
+			return result;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.rootEvoNestedEvoLeafEvo;
+			if (result == null)
+			{
+				result = new EvoType1TxnTypesRootEvoNestedEvoLeafEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvoLeafEvo = result;
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOLEAN_0","","booleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(EvoType1TxnTypesFinder.booleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.booleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_0","","byteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(EvoType1TxnTypesFinder.byteAttribute(), this.mapper, this.zGetValueSelector());
+				this.byteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.charAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_0","","charAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(EvoType1TxnTypesFinder.charAttribute(), this.mapper, this.zGetValueSelector());
+				this.charAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> dateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.dateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATE_0","","dateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(EvoType1TxnTypesFinder.dateAttribute(), this.mapper, this.zGetValueSelector());
+				this.dateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_0","","doubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(EvoType1TxnTypesFinder.doubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.doubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_0","","floatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(EvoType1TxnTypesFinder.floatAttribute(), this.mapper, this.zGetValueSelector());
+				this.floatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_0","","intAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(EvoType1TxnTypesFinder.intAttribute(), this.mapper, this.zGetValueSelector());
+				this.intAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.longAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_0","","longAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(EvoType1TxnTypesFinder.longAttribute(), this.mapper, this.zGetValueSelector());
+				this.longAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_0","","shortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(EvoType1TxnTypesFinder.shortAttribute(), this.mapper, this.zGetValueSelector());
+				this.shortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> stringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.stringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STRING_0","","stringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(EvoType1TxnTypesFinder.stringAttribute(), this.mapper, this.zGetValueSelector());
+				this.stringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> timestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.timestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TIMESTAMP_0","","timestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType1TxnTypesFinder.timestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.timestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> pkBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.pkBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1TxnTypesFinder.pkBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> pkByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.pkByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1TxnTypesFinder.pkByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> pkCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.pkCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1TxnTypesFinder.pkCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> pkDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.pkDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1TxnTypesFinder.pkDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> pkDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.pkDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1TxnTypesFinder.pkDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> pkFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.pkFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1TxnTypesFinder.pkFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> pkIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.pkIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1TxnTypesFinder.pkIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> pkLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.pkLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1TxnTypesFinder.pkLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> pkShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.pkShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1TxnTypesFinder.pkShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> pkStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.pkStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1TxnTypesFinder.pkStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> pkTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.pkTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1TxnTypesFinder.pkTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.pkBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesPkBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1TxnTypesFinder.pkBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1TxnTypesFinder.rootEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1TxnTypesFinder.rootEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1TxnTypesFinder.rootEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1TxnTypesFinder.rootEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1TxnTypesFinder.rootEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1TxnTypesFinder.rootEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1TxnTypesFinder.rootEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1TxnTypesFinder.rootEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1TxnTypesFinder.rootEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1TxnTypesFinder.rootEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1TxnTypesFinder.rootEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1TxnTypesFinder.rootEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType1TxnTypesRootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1TxnTypes> rootEvoOrder()
+		{
+			EvoType1TxnTypesRootEvoOrderFinderSubclass<ParentOwnerType> result = this.rootEvoOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType1TxnTypesFinder.zGetEvoType1TxnTypesRootEvoOrderReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType1TxnTypesRootEvoOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoOrder = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1TxnTypes> rootEvoOrderWithDate(Timestamp date)
+		{
+			EvoType1TxnTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType1TxnTypesFinder.zGetEvoType1TxnTypesRootEvoOrderWithDateReverseMapper(date));
+			newMapper.setToMany(false);
+			result = new EvoType1TxnTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,date);
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1TxnTypes> rootEvoNestedEvoOrderStatus()
+		{
+			EvoType1TxnTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> result = this.rootEvoNestedEvoOrderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType1TxnTypesFinder.zGetEvoType1TxnTypesRootEvoNestedEvoOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType1TxnTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoNestedEvoOrderStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1TxnTypes> rootEvoNestedEvoOrderStatusWithStatus(int status)
+		{
+			EvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType1TxnTypesFinder.zGetEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(status));
+			newMapper.setToMany(false);
+			result = new EvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,status);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return EvoType1TxnTypesFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return EvoType1TxnTypesFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class EvoType1TxnTypesCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends EvoType1TxnTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1TxnTypesList, OwnerType>
+	{
+		public EvoType1TxnTypesCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class EvoType1TxnTypesCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends EvoType1TxnTypesCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1TxnTypesCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class EvoType1TxnTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends EvoType1TxnTypesRelatedFinder<ParentOwnerType, ReturnType, EvoType1TxnTypesList, OwnerType>
+	implements ToOneFinder
+	{
+		public EvoType1TxnTypesSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public EvoType1TxnTypesSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(EvoType1TxnTypes other)
+		{
+			return this.pkBooleanAttribute().eq(other.isPkBooleanAttribute())
+			.and(this.pkByteAttribute().eq(other.getPkByteAttribute()))
+			.and(this.pkCharAttribute().eq(other.getPkCharAttribute()))
+			.and(this.pkDateAttribute().eq(other.getPkDateAttribute()))
+			.and(this.pkDoubleAttribute().eq(other.getPkDoubleAttribute()))
+			.and(this.pkFloatAttribute().eq(other.getPkFloatAttribute()))
+			.and(this.pkIntAttribute().eq(other.getPkIntAttribute()))
+			.and(this.pkLongAttribute().eq(other.getPkLongAttribute()))
+			.and(this.pkShortAttribute().eq(other.getPkShortAttribute()))
+			.and(this.pkStringAttribute().eq(other.getPkStringAttribute()))
+			.and(this.pkTimestampAttribute().eq(other.getPkTimestampAttribute()))
+			.and(this.pkBigDecimalAttribute().eq(other.getPkBigDecimalAttribute()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public EvoType1TxnTypes findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute)
+		{
+			EvoType1TxnTypes _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (!(_related instanceof NulledRelation)) _result = (EvoType1TxnTypes) _related;
+			if (_related == null)
+			{
+				_op = this.pkBooleanAttribute().eq(pkBooleanAttribute).and(this.pkByteAttribute().eq(pkByteAttribute)).and(this.pkCharAttribute().eq(pkCharAttribute)).and(this.pkDateAttribute().eq(pkDateAttribute)).and(this.pkDoubleAttribute().eq(pkDoubleAttribute)).and(this.pkFloatAttribute().eq(pkFloatAttribute)).and(this.pkIntAttribute().eq(pkIntAttribute)).and(this.pkLongAttribute().eq(pkLongAttribute)).and(this.pkShortAttribute().eq(pkShortAttribute)).and(this.pkStringAttribute().eq(pkStringAttribute)).and(this.pkTimestampAttribute().eq(pkTimestampAttribute)).and(this.pkBigDecimalAttribute().eq(pkBigDecimalAttribute));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class EvoType1TxnTypesSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends EvoType1TxnTypesSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType1TxnTypesSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper rootEvoOrderReverseMapper = null;
+	public static Mapper zGetEvoType1TxnTypesRootEvoOrderReverseMapper()
+	{
+		if (rootEvoOrderReverseMapper == null)
+		{
+			rootEvoOrderReverseMapper = zConstructEvoType1TxnTypesRootEvoOrderReverseMapper();
+		}
+
+		return rootEvoOrderReverseMapper;
+	}
+
+	private static Mapper rootEvoOrderMapper = null;
+	public static Mapper zGetEvoType1TxnTypesRootEvoOrderMapper()
+	{
+		if (rootEvoOrderMapper == null)
+		{
+			rootEvoOrderMapper = zConstructEvoType1TxnTypesRootEvoOrderMapper();
+		}
+
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper rootEvoOrderPureReverseMapper = null;
+	public static Mapper zGetEvoType1TxnTypesRootEvoOrderPureReverseMapper()
+	{
+		if (rootEvoOrderPureReverseMapper == null)
+		{
+			rootEvoOrderPureReverseMapper = zConstructEvoType1TxnTypesRootEvoOrderPureReverseMapper();
+		}
+
+		return rootEvoOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoOrderPureReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1TxnTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoOrderReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1TxnTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoOrderMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType1TxnTypesFinder.zGetConstantJoin(1);
+		rootEvoOrderMapper.setName("rootEvoOrder_Reverse");
+		return rootEvoOrderMapper;
+	}
+
+	public static Mapper zGetEvoType1TxnTypesRootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		return zConstructEvoType1TxnTypesRootEvoOrderWithDateReverseMapper(date);
+	}
+
+	public static Mapper zGetEvoType1TxnTypesRootEvoOrderWithDateMapper(Timestamp date)
+	{
+		return zConstructEvoType1TxnTypesRootEvoOrderWithDateMapper(date);
+	}
+
+	private static Mapper rootEvoOrderWithDatePureReverseMapper = null;
+	public static Mapper zGetEvoType1TxnTypesRootEvoOrderWithDatePureReverseMapper()
+	{
+		if (rootEvoOrderWithDatePureReverseMapper == null)
+		{
+			rootEvoOrderWithDatePureReverseMapper = zConstructEvoType1TxnTypesRootEvoOrderWithDatePureReverseMapper();
+		}
+
+		return rootEvoOrderWithDatePureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoOrderWithDatePureReverseMapper()
+	{
+		Mapper rootEvoOrderWithDateMapper = EvoType1TxnTypesFinder.zGetConstantJoin(0);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType1TxnTypesFinder.zGetConstantJoin(0);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, null, OrderFinder.orderDate().eq(date));
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoOrderWithDateMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType1TxnTypesFinder.zGetConstantJoin(1);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, OrderFinder.orderDate().eq(date), null);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate_Reverse");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusReverseMapper = null;
+	public static Mapper zGetEvoType1TxnTypesRootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusReverseMapper = zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusReverseMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusMapper = null;
+	public static Mapper zGetEvoType1TxnTypesRootEvoNestedEvoOrderStatusMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusMapper = zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType1TxnTypesRootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusPureReverseMapper = zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1TxnTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1TxnTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType1TxnTypesFinder.zGetConstantJoin(3);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	public static Mapper zGetEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		return zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(status);
+	}
+
+	public static Mapper zGetEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		return zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusMapper(status);
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = EvoType1TxnTypesFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType1TxnTypesFinder.zGetConstantJoin(2);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, null, OrderStatusFinder.status().eq(status));
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType1TxnTypesFinder.zGetConstantJoin(3);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, OrderStatusFinder.status().eq(status), null);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	public static EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+	{
+		return finder.pk();
+	}
+
+	public static EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+	{
+		return finder.rootEvo();
+	}
+
+	protected static EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+	{
+		return finder.rootEvoNestedEvo();
+	}
+
+	protected static EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+	{
+		return finder.rootEvoNestedEvoLeafEvo();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.BOOLEAN_0 **/
+	public static BooleanAttribute<EvoType1TxnTypes> booleanAttribute()
+	{
+		return finder.booleanAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.BYTE_0 **/
+	public static ByteAttribute<EvoType1TxnTypes> byteAttribute()
+	{
+		return finder.byteAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.CHAR_0 **/
+	public static CharAttribute<EvoType1TxnTypes> charAttribute()
+	{
+		return finder.charAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.DATE_0 **/
+	public static DateAttribute<EvoType1TxnTypes> dateAttribute()
+	{
+		return finder.dateAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.DOUBLE_0 **/
+	public static DoubleAttribute<EvoType1TxnTypes> doubleAttribute()
+	{
+		return finder.doubleAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.FLOAT_0 **/
+	public static FloatAttribute<EvoType1TxnTypes> floatAttribute()
+	{
+		return finder.floatAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.INT_0 **/
+	public static IntegerAttribute<EvoType1TxnTypes> intAttribute()
+	{
+		return finder.intAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.LONG_0 **/
+	public static LongAttribute<EvoType1TxnTypes> longAttribute()
+	{
+		return finder.longAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.SHORT_0 **/
+	public static ShortAttribute<EvoType1TxnTypes> shortAttribute()
+	{
+		return finder.shortAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.STRING_0 **/
+	public static StringAttribute<EvoType1TxnTypes> stringAttribute()
+	{
+		return finder.stringAttribute();
+	}
+
+	/** maps to EVO_TYPE1_TXN_TYPES.TIMESTAMP_0 **/
+	public static TimestampAttribute<EvoType1TxnTypes> timestampAttribute()
+	{
+		return finder.timestampAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1TxnTypes> pkBooleanAttribute()
+	{
+		return finder.pkBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1TxnTypes> pkByteAttribute()
+	{
+		return finder.pkByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1TxnTypes> pkCharAttribute()
+	{
+		return finder.pkCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1TxnTypes> pkDateAttribute()
+	{
+		return finder.pkDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1TxnTypes> pkDoubleAttribute()
+	{
+		return finder.pkDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1TxnTypes> pkFloatAttribute()
+	{
+		return finder.pkFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1TxnTypes> pkIntAttribute()
+	{
+		return finder.pkIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1TxnTypes> pkLongAttribute()
+	{
+		return finder.pkLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1TxnTypes> pkShortAttribute()
+	{
+		return finder.pkShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1TxnTypes> pkStringAttribute()
+	{
+		return finder.pkStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1TxnTypes> pkTimestampAttribute()
+	{
+		return finder.pkTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1TxnTypes> pkBigDecimalAttribute()
+	{
+		return finder.pkBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1TxnTypes> rootEvoBooleanAttribute()
+	{
+		return finder.rootEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1TxnTypes> rootEvoByteAttribute()
+	{
+		return finder.rootEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1TxnTypes> rootEvoCharAttribute()
+	{
+		return finder.rootEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1TxnTypes> rootEvoDateAttribute()
+	{
+		return finder.rootEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1TxnTypes> rootEvoDoubleAttribute()
+	{
+		return finder.rootEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1TxnTypes> rootEvoFloatAttribute()
+	{
+		return finder.rootEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1TxnTypes> rootEvoIntAttribute()
+	{
+		return finder.rootEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1TxnTypes> rootEvoLongAttribute()
+	{
+		return finder.rootEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1TxnTypes> rootEvoShortAttribute()
+	{
+		return finder.rootEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1TxnTypes> rootEvoStringAttribute()
+	{
+		return finder.rootEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1TxnTypes> rootEvoTimestampAttribute()
+	{
+		return finder.rootEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1TxnTypes> rootEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1TxnTypes> rootEvoNestedEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1TxnTypes> rootEvoNestedEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1TxnTypes> rootEvoNestedEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1TxnTypes> rootEvoNestedEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1TxnTypes> rootEvoNestedEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1TxnTypes> rootEvoNestedEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1TxnTypes> rootEvoNestedEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1TxnTypes> rootEvoNestedEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1TxnTypes> rootEvoNestedEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1TxnTypes> rootEvoNestedEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1TxnTypes> rootEvoNestedEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1TxnTypes> rootEvoNestedEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType1TxnTypes> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType1TxnTypes, Order, EvoType1TxnTypes> rootEvoOrder()
+	{
+		return finder.rootEvoOrder();
+	}
+
+	public static class EvoType1TxnTypesRootEvoOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1TxnTypes>
+	{
+		public EvoType1TxnTypesRootEvoOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1TxnTypesRootEvoOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(EvoType1TxnTypes _obj)
+		{
+			return _obj.getRootEvoOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1TxnTypesList)_obj).getRootEvoOrders();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType1TxnTypes, Order, EvoType1TxnTypes> rootEvoOrderWithDate(Timestamp date)
+	{
+		return finder.rootEvoOrderWithDate(date);
+	}
+
+	public static class EvoType1TxnTypesRootEvoOrderWithDateFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType1TxnTypes>
+	{
+		private Timestamp date;
+		public EvoType1TxnTypesRootEvoOrderWithDateFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp date)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.date = date;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrderWithDate";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1TxnTypesRootEvoOrderWithDateFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.date
+			);
+		}
+
+		protected Order plainValueOf(EvoType1TxnTypes _obj)
+		{
+			return _obj.getRootEvoOrderWithDate(date);
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1TxnTypesList)_obj).getRootEvoOrderWithDates(date);
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType1TxnTypes, OrderStatus, EvoType1TxnTypes> rootEvoNestedEvoOrderStatus()
+	{
+		return finder.rootEvoNestedEvoOrderStatus();
+	}
+
+	public static class EvoType1TxnTypesRootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1TxnTypes>
+	{
+		public EvoType1TxnTypesRootEvoNestedEvoOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1TxnTypesRootEvoNestedEvoOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType1TxnTypes _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatus();
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1TxnTypesList)_obj).getRootEvoNestedEvoOrderStatus();
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType1TxnTypes, OrderStatus, EvoType1TxnTypes> rootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+	}
+
+	public static class EvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType1TxnTypes>
+	{
+		private int status;
+		public EvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int status)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.status = status;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatusWithStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType1TxnTypesRootEvoNestedEvoOrderStatusWithStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.status
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType1TxnTypes _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType1TxnTypesList)_obj).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+	}
+
+	public static Operation eq(EvoType1TxnTypes other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(pkBooleanAttribute());
+	}
+
+	public static EvoType1TxnTypesSingleFinder<EvoType1TxnTypes, Object, EvoType1TxnTypes> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			booleanAttribute()
+			, pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			rootEvoIntAttribute()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			rootEvoNestedEvoIntAttribute()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[5];
+		result[0] = doubleAttribute();
+		result[1] = pkDoubleAttribute();
+		result[2] = rootEvoDoubleAttribute();
+		result[3] = rootEvoNestedEvoDoubleAttribute();
+		result[4] = rootEvoNestedEvoLeafEvoDoubleAttribute();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[4];
+		result[0] = pkBigDecimalAttribute();
+		result[1] = rootEvoBigDecimalAttribute();
+		result[2] = rootEvoNestedEvoBigDecimalAttribute();
+		result[3] = rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType1TxnTypes");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
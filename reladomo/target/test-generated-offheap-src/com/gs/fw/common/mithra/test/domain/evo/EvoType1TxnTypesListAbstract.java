@@ -0,0 +1,651 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class EvoType1TxnTypesListAbstract extends DelegatingList<EvoType1TxnTypes> implements MithraTransactionalList<EvoType1TxnTypes>
+{
+	public EvoType1TxnTypesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public EvoType1TxnTypesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public EvoType1TxnTypesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public EvoType1TxnTypesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public EvoType1TxnTypes[] elements()
+	{
+		EvoType1TxnTypes[] result = new EvoType1TxnTypes[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public EvoType1TxnTypesList intersection(EvoType1TxnTypesList another)
+	{
+		return (EvoType1TxnTypesList)super.intersection(another);
+	}
+
+	public EvoType1TxnTypes getEvoType1TxnTypesAt(int index)
+	{
+		return (EvoType1TxnTypes)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public OrderList getRootEvoOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType1TxnTypesFinder.rootEvoOrder());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public OrderList getRootEvoOrderWithDates(Timestamp date)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType1TxnTypesFinder.rootEvoOrderWithDate(date));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatus()
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType1TxnTypesFinder.rootEvoNestedEvoOrderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType1TxnTypesFinder.rootEvoNestedEvoOrderStatusWithStatus(status));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EvoType1TxnTypesFinder.getMithraObjectPortal();
+	}
+
+	public EvoType1TxnTypesList getNonPersistentCopy()
+	{
+		EvoType1TxnTypesList result = new EvoType1TxnTypesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public EvoType1TxnTypesList asAdhoc()
+	{
+		return (EvoType1TxnTypesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<EvoType1TxnTypes> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public EvoType1TxnTypesList merge(MithraTransactionalList<EvoType1TxnTypes> incoming, TopLevelMergeOptions<EvoType1TxnTypes> mergeOptions)
+	{
+		return (EvoType1TxnTypesList) super.merge(incoming, mergeOptions);
+	}
+
+	public EvoType1TxnTypesList getDetachedCopy()
+	{
+		EvoType1TxnTypesList result = new EvoType1TxnTypesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TxnTypesFinder.booleanAttribute(), newValue);
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TxnTypesFinder.byteAttribute(), newValue);
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TxnTypesFinder.charAttribute(), newValue);
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TxnTypesFinder.dateAttribute(), newValue);
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TxnTypesFinder.doubleAttribute(), newValue);
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TxnTypesFinder.floatAttribute(), newValue);
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TxnTypesFinder.intAttribute(), newValue);
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TxnTypesFinder.longAttribute(), newValue);
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TxnTypesFinder.shortAttribute(), newValue);
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		zSetString(EvoType1TxnTypesFinder.stringAttribute(), newValue);
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TxnTypesFinder.timestampAttribute(), newValue);
+	}
+
+	public void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TxnTypesFinder.pkBooleanAttribute(), newValue);
+	}
+
+	public void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TxnTypesFinder.pkByteAttribute(), newValue);
+	}
+
+	public void setPkCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TxnTypesFinder.pkCharAttribute(), newValue);
+	}
+
+	public void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TxnTypesFinder.pkDateAttribute(), newValue);
+	}
+
+	public void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TxnTypesFinder.pkDoubleAttribute(), newValue);
+	}
+
+	public void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TxnTypesFinder.pkFloatAttribute(), newValue);
+	}
+
+	public void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TxnTypesFinder.pkIntAttribute(), newValue);
+	}
+
+	public void setPkLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TxnTypesFinder.pkLongAttribute(), newValue);
+	}
+
+	public void setPkShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TxnTypesFinder.pkShortAttribute(), newValue);
+	}
+
+	public void setPkStringAttribute(String newValue)
+	{
+		zSetString(EvoType1TxnTypesFinder.pkStringAttribute(), newValue);
+	}
+
+	public void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TxnTypesFinder.pkTimestampAttribute(), newValue);
+	}
+
+	public void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1TxnTypesFinder.pkBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TxnTypesFinder.rootEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TxnTypesFinder.rootEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TxnTypesFinder.rootEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TxnTypesFinder.rootEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TxnTypesFinder.rootEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TxnTypesFinder.rootEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TxnTypesFinder.rootEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TxnTypesFinder.rootEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TxnTypesFinder.rootEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType1TxnTypesFinder.rootEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TxnTypesFinder.rootEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1TxnTypesFinder.rootEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TxnTypesFinder.rootEvoNestedEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TxnTypesFinder.rootEvoNestedEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TxnTypesFinder.rootEvoNestedEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TxnTypesFinder.rootEvoNestedEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TxnTypesFinder.rootEvoNestedEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TxnTypesFinder.rootEvoNestedEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TxnTypesFinder.rootEvoNestedEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType1TxnTypesFinder.rootEvoNestedEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TxnTypesFinder.rootEvoNestedEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1TxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void copyPk(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType1TxnTypesFinder.pk(), newValue);
+	}
+
+	public void copyRootEvo(EvoTypesRoot newValue)
+	{
+		zSetEvoValue(EvoType1TxnTypesFinder.rootEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvo(EvoTypesNested newValue)
+	{
+		zSetEvoValue(EvoType1TxnTypesFinder.rootEvoNestedEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvo(), newValue);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.booleanAttribute());
+	}
+
+	public void setByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.byteAttribute());
+	}
+
+	public void setCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.charAttribute());
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.doubleAttribute());
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.floatAttribute());
+	}
+
+	public void setIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.intAttribute());
+	}
+
+	public void setLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.longAttribute());
+	}
+
+	public void setShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.shortAttribute());
+	}
+
+	public void setRootEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoBooleanAttribute());
+	}
+
+	public void setRootEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoByteAttribute());
+	}
+
+	public void setRootEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoCharAttribute());
+	}
+
+	public void setRootEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoDoubleAttribute());
+	}
+
+	public void setRootEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoFloatAttribute());
+	}
+
+	public void setRootEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoIntAttribute());
+	}
+
+	public void setRootEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoLongAttribute());
+	}
+
+	public void setRootEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType1TxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute());
+	}
+}
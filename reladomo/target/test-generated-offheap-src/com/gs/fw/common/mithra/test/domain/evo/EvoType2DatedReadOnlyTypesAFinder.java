@@ -0,0 +1,5451 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EvoType2DatedReadOnlyTypesAFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/evo/EvoType2DatedReadOnlyTypesA";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.evo.EvoType2DatedReadOnlyTypesA";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType2DatedReadOnlyTypesA");
+	private static final EvoType2DatedReadOnlyTypesASingleFinder<EvoType2DatedReadOnlyTypesA, Object, EvoType2DatedReadOnlyTypesA> finder = new EvoType2DatedReadOnlyTypesASingleFinder<EvoType2DatedReadOnlyTypesA, Object, EvoType2DatedReadOnlyTypesA>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(EvoType2DatedReadOnlyTypesAFinder.EvoType2DatedReadOnlyTypesARelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("booleanAttribute");
+		finderMethodMap.addNormalAttributeName("byteAttribute");
+		finderMethodMap.addNormalAttributeName("charAttribute");
+		finderMethodMap.addNormalAttributeName("dateAttribute");
+		finderMethodMap.addNormalAttributeName("doubleAttribute");
+		finderMethodMap.addNormalAttributeName("floatAttribute");
+		finderMethodMap.addNormalAttributeName("intAttribute");
+		finderMethodMap.addNormalAttributeName("longAttribute");
+		finderMethodMap.addNormalAttributeName("shortAttribute");
+		finderMethodMap.addNormalAttributeName("stringAttribute");
+		finderMethodMap.addNormalAttributeName("timestampAttribute");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("pkBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("pkByteAttribute");
+		finderMethodMap.addNormalAttributeName("pkCharAttribute");
+		finderMethodMap.addNormalAttributeName("pkDateAttribute");
+		finderMethodMap.addNormalAttributeName("pkDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("pkFloatAttribute");
+		finderMethodMap.addNormalAttributeName("pkIntAttribute");
+		finderMethodMap.addNormalAttributeName("pkLongAttribute");
+		finderMethodMap.addNormalAttributeName("pkShortAttribute");
+		finderMethodMap.addNormalAttributeName("pkStringAttribute");
+		finderMethodMap.addNormalAttributeName("pkTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("pkBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBooleanAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoByteAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoCharAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDateAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoDoubleAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoFloatAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoIntAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoLongAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoShortAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoStringAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoTimestampAttribute");
+		finderMethodMap.addNormalAttributeName("rootEvoNestedEvoLeafEvoBigDecimalAttribute");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("rootEvoOrder");
+		finderMethodMap.addRelationshipName("rootEvoNestedEvoOrderStatus");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = EvoType2DatedReadOnlyTypesAFinder.rootEvoIntAttribute().constructEqualityMapper(OrderFinder.orderId());
+			result[1] = OrderFinder.orderId().constructEqualityMapper(EvoType2DatedReadOnlyTypesAFinder.rootEvoIntAttribute());
+			result[2] = EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoIntAttribute().constructEqualityMapper(OrderStatusFinder.orderId());
+			result[3] = OrderStatusFinder.orderId().constructEqualityMapper(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoIntAttribute());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static EvoType2DatedReadOnlyTypesA findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static EvoType2DatedReadOnlyTypesA findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static EvoType2DatedReadOnlyTypesAList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType2DatedReadOnlyTypesAList) finder.findMany(operation);
+	}
+
+	public static EvoType2DatedReadOnlyTypesAList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (EvoType2DatedReadOnlyTypesAList) finder.findManyBypassCache(operation);
+	}
+
+	private static EvoType2DatedReadOnlyTypesA findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (EvoType2DatedReadOnlyTypesA) FinderUtils.findOne(found);
+	}
+
+	public static EvoType2DatedReadOnlyTypesA findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(pkBooleanAttribute, pkByteAttribute, pkCharAttribute, pkDateAttribute, pkDoubleAttribute, pkFloatAttribute, pkIntAttribute, pkLongAttribute, pkShortAttribute, pkStringAttribute, pkTimestampAttribute, pkBigDecimalAttribute, businessDate, processingDate);
+	}
+
+	public static EvoType2DatedReadOnlyTypesA zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (EvoType2DatedReadOnlyTypesA) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class EvoType2DatedReadOnlyTypesAPkAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType2DatedReadOnlyTypesARelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType2DatedReadOnlyTypesAPkAttribute(EvoType2DatedReadOnlyTypesARelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType2DatedReadOnlyTypesA) o).getPk();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).copyPk(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).copyPkUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.pkBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.pkByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.pkCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.pkDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.pkDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.pkFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.pkIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.pkLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.pkShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.pkStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.pkTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.pkBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.pk();
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoAttribute extends EvoTypesRoot.ManagedEvoTypesRootAttribute
+	{
+		private final EvoType2DatedReadOnlyTypesARelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, Order> order;
+		public EvoType2DatedReadOnlyTypesARootEvoAttribute(EvoType2DatedReadOnlyTypesARelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.order = new EvoType2DatedReadOnlyTypesARootEvoAttributeOrderExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesRoot.class;
+		}
+
+		public EvoTypesRoot evoTypesRootValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvo();
+		}
+
+		public void setEvoTypesRootValue(Object o, EvoTypesRoot newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).copyRootEvo(newValue);
+		}
+
+		public void setEvoTypesRootValueUntil(Object o, EvoTypesRoot newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).copyRootEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoBigDecimalAttribute();
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses order()
+		{
+			return this.finder.rootEvoOrder();
+		}
+
+		public Extractor<Object, Order> zOrderExtractor()
+		{
+			return this.order;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses orderWithDate(Timestamp date)
+		{
+			return this.finder.rootEvoOrderWithDate(date);
+		}
+
+		public Extractor<Object, Order> zOrderWithDateExtractor(Timestamp date)
+		{
+			return new EvoType2DatedReadOnlyTypesARootEvoAttributeOrderWithDateExtractor(this.parentSelector, date);
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute nestedEvo()
+		{
+			return this.finder.rootEvoNestedEvo();
+		}
+
+		protected EvoTypesRoot.ManagedEvoTypesRootAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo();
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoAttributeOrderExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType2DatedReadOnlyTypesARootEvoAttributeOrderExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoOrder();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).setRootEvoOrder((Order) o);
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoAttributeOrderWithDateExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private Timestamp date;
+		public EvoType2DatedReadOnlyTypesARootEvoAttributeOrderWithDateExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , Timestamp date)
+		{
+			this.parentSelector = parentSelector;
+			this.date = date;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoOrderWithDate(date);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoAttribute extends EvoTypesNested.ManagedEvoTypesNestedAttribute
+	{
+		private final EvoType2DatedReadOnlyTypesARelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private final Extractor<Object, OrderStatus> orderStatus;
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoAttribute(EvoType2DatedReadOnlyTypesARelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+			this.orderStatus = new EvoType2DatedReadOnlyTypesARootEvoNestedEvoAttributeOrderStatusExtractor(this.parentSelector);
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesNested.class;
+		}
+
+		public EvoTypesNested evoTypesNestedValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvo();
+		}
+
+		public void setEvoTypesNestedValue(Object o, EvoTypesNested newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).copyRootEvoNestedEvo(newValue);
+		}
+
+		public void setEvoTypesNestedValueUntil(Object o, EvoTypesNested newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).copyRootEvoNestedEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatus()
+		{
+			return this.finder.rootEvoNestedEvoOrderStatus();
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusExtractor()
+		{
+			return this.orderStatus;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatusWithStatus(int status)
+		{
+			return this.finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public Extractor<Object, OrderStatus> zOrderStatusWithStatusExtractor(int status)
+		{
+			return new EvoType2DatedReadOnlyTypesARootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(this.parentSelector, status);
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute leafEvo()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvo();
+		}
+
+		protected EvoTypesNested.ManagedEvoTypesNestedAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo();
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoAttributeOrderStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoAttributeOrderStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector )
+		{
+			this.parentSelector = parentSelector;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoOrderStatus();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				throw new RuntimeException("Could not set deep relationship as intermediate object is null");
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoOrderStatus((OrderStatus) o);
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoAttributeOrderStatusWithStatusExtractor extends NonPrimitiveExtractor
+	{
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		private int status;
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoAttributeOrderStatusWithStatusExtractor(com.gs.fw.common.mithra.extractor.Function parentSelector , int status)
+		{
+			this.parentSelector = parentSelector;
+			this.status = status;
+		}
+
+		public Object valueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			throw new MithraBusinessException("parametrized relationships cannot be set");
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoAttribute extends EvoTypesLeaf.ManagedEvoTypesLeafAttribute
+	{
+		private final EvoType2DatedReadOnlyTypesARelatedFinder finder;
+		private final com.gs.fw.common.mithra.extractor.Function parentSelector;
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoAttribute(EvoType2DatedReadOnlyTypesARelatedFinder finder, com.gs.fw.common.mithra.extractor.Function parentSelector)
+		{
+			this.finder = finder;
+			this.parentSelector = parentSelector;
+		}
+
+		public MithraObjectPortal getOwnerPortal()
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.getMithraObjectPortal();
+		}
+
+		public Class valueType()
+		{
+			return EvoTypesLeaf.class;
+		}
+
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+				if (o == null) return null;
+			}
+
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvo();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf newValue)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).copyRootEvoNestedEvoLeafEvo(newValue);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf newValue, Timestamp exclusiveUntil)
+		{
+			if (this.parentSelector != null)
+			{
+				o = this.parentSelector.valueOf(o);
+			}
+
+			((EvoType2DatedReadOnlyTypesA) o).copyRootEvoNestedEvoLeafEvoUntil(newValue, exclusiveUntil);
+		}
+
+		public BooleanAttribute booleanAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public ByteAttribute byteAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public CharAttribute charAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public DateAttribute dateAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public DoubleAttribute doubleAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public FloatAttribute floatAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public IntegerAttribute intAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public LongAttribute longAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public ShortAttribute shortAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public StringAttribute stringAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public TimestampAttribute timestampAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public BigDecimalAttribute bigDecimalAttribute()
+		{
+			return this.finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		protected EvoTypesLeaf.ManagedEvoTypesLeafAttribute retrieveAttribute()
+		{
+			return this.finder.rootEvo().nestedEvo().leafEvo();
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_PK","","pkBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isPkBooleanAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).isPkBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkByteAttributeAttribute()
+		{
+			super("BYTE_PK","","pkByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkByteAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkCharAttributeAttribute()
+		{
+			super("CHAR_PK","","pkCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkCharAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkDateAttributeAttribute()
+		{
+			super("DATE_PK","","pkDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkDateAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkDoubleAttributeAttribute()
+		{
+			super("DOUBLE_PK","","pkDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkDoubleAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkFloatAttributeAttribute()
+		{
+			super("FLOAT_PK","","pkFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkFloatAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkIntAttributeAttribute()
+		{
+			super("INT_PK","","pkIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkIntAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkLongAttributeAttribute()
+		{
+			super("LONG_PK","","pkLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkLongAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkShortAttributeAttribute()
+		{
+			super("SHORT_PK","","pkShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkShortAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return false;
+		}
+
+		public void setValueNull(Object o)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkStringAttributeAttribute()
+		{
+			super("STRING_PK","","pkStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkStringAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_PK","","pkTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkTimestampAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesAPkBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType2DatedReadOnlyTypesAPkBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_PK","","pkBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,finder,null,false,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getPkBigDecimalAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getPkBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setPkBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setPkBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_1","","rootEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoBooleanAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoBooleanAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoByteAttributeAttribute()
+		{
+			super("BYTE_1","","rootEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoByteAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoByteAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoCharAttributeAttribute()
+		{
+			super("CHAR_1","","rootEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoCharAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoCharAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoDateAttributeAttribute()
+		{
+			super("DATE_1","","rootEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoDateAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_1","","rootEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoDoubleAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoDoubleAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_1","","rootEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoFloatAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoFloatAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoIntAttributeAttribute()
+		{
+			super("INT_1","","rootEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoIntAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoIntAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoLongAttributeAttribute()
+		{
+			super("LONG_1","","rootEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoLongAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoLongAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoShortAttributeAttribute()
+		{
+			super("SHORT_1","","rootEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoShortAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoShortAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoStringAttributeAttribute()
+		{
+			super("STRING_1","","rootEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoStringAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_1","","rootEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoTimestampAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_1","","rootEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoBigDecimalAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_2","","rootEvoNestedEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoBooleanAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoBooleanAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoByteAttributeAttribute()
+		{
+			super("BYTE_2","","rootEvoNestedEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoByteAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoByteAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoCharAttributeAttribute()
+		{
+			super("CHAR_2","","rootEvoNestedEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoCharAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoCharAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoDateAttributeAttribute()
+		{
+			super("DATE_2","","rootEvoNestedEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoDateAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_2","","rootEvoNestedEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoDoubleAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoDoubleAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_2","","rootEvoNestedEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoFloatAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoFloatAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoIntAttributeAttribute()
+		{
+			super("INT_2","","rootEvoNestedEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoIntAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoIntAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLongAttributeAttribute()
+		{
+			super("LONG_2","","rootEvoNestedEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLongAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLongAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoShortAttributeAttribute()
+		{
+			super("SHORT_2","","rootEvoNestedEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoShortAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoShortAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoStringAttributeAttribute()
+		{
+			super("STRING_2","","rootEvoNestedEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoStringAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_2","","rootEvoNestedEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoTimestampAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_2","","rootEvoNestedEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,18,3);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoBigDecimalAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoBooleanAttributeAttribute extends SingleColumnBooleanAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoBooleanAttributeAttribute()
+		{
+			super("BOOLEAN_3","","rootEvoNestedEvoLeafEvoBooleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public boolean booleanValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLeafEvoBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, boolean newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoByteAttributeAttribute extends SingleColumnByteAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoByteAttributeAttribute()
+		{
+			super("BYTE_3","","rootEvoNestedEvoLeafEvoByteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public byte byteValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoByteAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, byte newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoCharAttributeAttribute extends SingleColumnCharAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoCharAttributeAttribute()
+		{
+			super("CHAR_3","","rootEvoNestedEvoLeafEvoCharAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public char charValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoCharAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, char newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoDateAttributeAttribute extends SingleColumnDateAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoDateAttributeAttribute()
+		{
+			super("DATE_3","","rootEvoNestedEvoLeafEvoDateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public Date dateValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Date newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoDoubleAttributeAttribute extends SingleColumnDoubleAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoDoubleAttributeAttribute()
+		{
+			super("DOUBLE_3","","rootEvoNestedEvoLeafEvoDoubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public double doubleValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+			}
+		}
+
+		public void increment(Object o, double increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, double increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, double newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoFloatAttributeAttribute extends SingleColumnFloatAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoFloatAttributeAttribute()
+		{
+			super("FLOAT_3","","rootEvoNestedEvoLeafEvoFloatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public float floatValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, float newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoIntAttributeAttribute extends SingleColumnIntegerAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoIntAttributeAttribute()
+		{
+			super("INT_3","","rootEvoNestedEvoLeafEvoIntAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public int intValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoIntAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, int newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoLongAttributeAttribute extends SingleColumnLongAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoLongAttributeAttribute()
+		{
+			super("LONG_3","","rootEvoNestedEvoLeafEvoLongAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,false);
+		}
+
+		public long longValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoLongAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, long newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean isSequenceSet(Object o)
+		{
+			return false;
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoShortAttributeAttribute extends SingleColumnShortAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoShortAttributeAttribute()
+		{
+			super("SHORT_3","","rootEvoNestedEvoLeafEvoShortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false);
+		}
+
+		public short shortValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+			}
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+			return ((EvoType2DatedReadOnlyTypesA) o).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoShortAttributeNull();
+			}
+		}
+
+		public void setUntil(Object o, short newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setValueNullUntil(Object o, Timestamp exclusiveUntil)
+		{
+			throw new MithraBusinessException("Attribute " + this.getClass().getName() + " cannot be set to null");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoStringAttributeAttribute extends SingleColumnStringAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoStringAttributeAttribute()
+		{
+			super("STRING_3","","rootEvoNestedEvoLeafEvoStringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,true);
+		}
+
+		public String stringValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, String newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoTimestampAttributeAttribute extends SingleColumnTimestampAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoTimestampAttributeAttribute()
+		{
+			super("TIMESTAMP_3","","rootEvoNestedEvoLeafEvoTimestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0);
+		}
+
+		public Timestamp timestampValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+			}
+		}
+
+		public void setUntil(Object o, Timestamp newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public boolean hasSameVersion(MithraDataObject first, MithraDataObject second)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	protected static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute extends SingleColumnBigDecimalAttribute
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute()
+		{
+			super("BIGDECIMAL_3","","rootEvoNestedEvoLeafEvoBigDecimalAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,finder,null,false,false,10,2);
+		}
+
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData) return ((EvoType2DatedReadOnlyTypesAData) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return ((EvoType2DatedReadOnlyTypesA) o).getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			if (o instanceof EvoType2DatedReadOnlyTypesAData)
+			{
+				((EvoType2DatedReadOnlyTypesAData) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+			else
+			{
+				((EvoType2DatedReadOnlyTypesA) o).setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+			}
+		}
+
+		public void increment(Object o, BigDecimal increment)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void incrementUntil(Object o, BigDecimal increment, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public void setUntil(Object o, BigDecimal newValue, Timestamp exclusiveUntil)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<EvoType2DatedReadOnlyTypesA, ParentOwnerType, ReturnType, ReturnListType, OwnerType> implements EvoType2DatedReadOnlyTypesFinder<EvoType2DatedReadOnlyTypesA>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private BooleanAttribute<ParentOwnerType> booleanAttribute;
+		private ByteAttribute<ParentOwnerType> byteAttribute;
+		private CharAttribute<ParentOwnerType> charAttribute;
+		private DateAttribute<ParentOwnerType> dateAttribute;
+		private DoubleAttribute<ParentOwnerType> doubleAttribute;
+		private FloatAttribute<ParentOwnerType> floatAttribute;
+		private IntegerAttribute<ParentOwnerType> intAttribute;
+		private LongAttribute<ParentOwnerType> longAttribute;
+		private ShortAttribute<ParentOwnerType> shortAttribute;
+		private StringAttribute<ParentOwnerType> stringAttribute;
+		private TimestampAttribute<ParentOwnerType> timestampAttribute;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private BooleanAttribute<ParentOwnerType> pkBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> pkByteAttribute;
+		private CharAttribute<ParentOwnerType> pkCharAttribute;
+		private DateAttribute<ParentOwnerType> pkDateAttribute;
+		private DoubleAttribute<ParentOwnerType> pkDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> pkFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> pkIntAttribute;
+		private LongAttribute<ParentOwnerType> pkLongAttribute;
+		private ShortAttribute<ParentOwnerType> pkShortAttribute;
+		private StringAttribute<ParentOwnerType> pkStringAttribute;
+		private TimestampAttribute<ParentOwnerType> pkTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute;
+		private BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute;
+		private ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute;
+		private CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute;
+		private DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute;
+		private DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute;
+		private FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute;
+		private IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute;
+		private LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute;
+		private ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute;
+		private StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute;
+		private TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute;
+		private BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private EvoType2DatedReadOnlyTypesARootEvoOrderFinderSubclass<ParentOwnerType> rootEvoOrder;
+		private EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> rootEvoNestedEvoOrderStatus;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk;
+		private EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo;
+		private EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo;
+		private EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public EvoType2DatedReadOnlyTypesARelatedFinder()
+		{
+			super();
+		}
+
+		public EvoType2DatedReadOnlyTypesARelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.evo.EvoType2DatedReadOnlyTypesAFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[63];
+			attributes[0] = this.booleanAttribute();
+			attributes[1] = this.byteAttribute();
+			attributes[2] = this.charAttribute();
+			attributes[3] = this.dateAttribute();
+			attributes[4] = this.doubleAttribute();
+			attributes[5] = this.floatAttribute();
+			attributes[6] = this.intAttribute();
+			attributes[7] = this.longAttribute();
+			attributes[8] = this.shortAttribute();
+			attributes[9] = this.stringAttribute();
+			attributes[10] = this.timestampAttribute();
+			attributes[11] = this.businessDateFrom();
+			attributes[12] = this.businessDateTo();
+			attributes[13] = this.processingDateFrom();
+			attributes[14] = this.processingDateTo();
+			attributes[15] = this.pkBooleanAttribute();
+			attributes[16] = this.pkByteAttribute();
+			attributes[17] = this.pkCharAttribute();
+			attributes[18] = this.pkDateAttribute();
+			attributes[19] = this.pkDoubleAttribute();
+			attributes[20] = this.pkFloatAttribute();
+			attributes[21] = this.pkIntAttribute();
+			attributes[22] = this.pkLongAttribute();
+			attributes[23] = this.pkShortAttribute();
+			attributes[24] = this.pkStringAttribute();
+			attributes[25] = this.pkTimestampAttribute();
+			attributes[26] = this.pkBigDecimalAttribute();
+			attributes[27] = this.rootEvoBooleanAttribute();
+			attributes[28] = this.rootEvoByteAttribute();
+			attributes[29] = this.rootEvoCharAttribute();
+			attributes[30] = this.rootEvoDateAttribute();
+			attributes[31] = this.rootEvoDoubleAttribute();
+			attributes[32] = this.rootEvoFloatAttribute();
+			attributes[33] = this.rootEvoIntAttribute();
+			attributes[34] = this.rootEvoLongAttribute();
+			attributes[35] = this.rootEvoShortAttribute();
+			attributes[36] = this.rootEvoStringAttribute();
+			attributes[37] = this.rootEvoTimestampAttribute();
+			attributes[38] = this.rootEvoBigDecimalAttribute();
+			attributes[39] = this.rootEvoNestedEvoBooleanAttribute();
+			attributes[40] = this.rootEvoNestedEvoByteAttribute();
+			attributes[41] = this.rootEvoNestedEvoCharAttribute();
+			attributes[42] = this.rootEvoNestedEvoDateAttribute();
+			attributes[43] = this.rootEvoNestedEvoDoubleAttribute();
+			attributes[44] = this.rootEvoNestedEvoFloatAttribute();
+			attributes[45] = this.rootEvoNestedEvoIntAttribute();
+			attributes[46] = this.rootEvoNestedEvoLongAttribute();
+			attributes[47] = this.rootEvoNestedEvoShortAttribute();
+			attributes[48] = this.rootEvoNestedEvoStringAttribute();
+			attributes[49] = this.rootEvoNestedEvoTimestampAttribute();
+			attributes[50] = this.rootEvoNestedEvoBigDecimalAttribute();
+			attributes[51] = this.rootEvoNestedEvoLeafEvoBooleanAttribute();
+			attributes[52] = this.rootEvoNestedEvoLeafEvoByteAttribute();
+			attributes[53] = this.rootEvoNestedEvoLeafEvoCharAttribute();
+			attributes[54] = this.rootEvoNestedEvoLeafEvoDateAttribute();
+			attributes[55] = this.rootEvoNestedEvoLeafEvoDoubleAttribute();
+			attributes[56] = this.rootEvoNestedEvoLeafEvoFloatAttribute();
+			attributes[57] = this.rootEvoNestedEvoLeafEvoIntAttribute();
+			attributes[58] = this.rootEvoNestedEvoLeafEvoLongAttribute();
+			attributes[59] = this.rootEvoNestedEvoLeafEvoShortAttribute();
+			attributes[60] = this.rootEvoNestedEvoLeafEvoStringAttribute();
+			attributes[61] = this.rootEvoNestedEvoLeafEvoTimestampAttribute();
+			attributes[62] = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.rootEvoOrder());
+				relatedFinders.add(this.rootEvoNestedEvoOrderStatus());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public EvoType2DatedReadOnlyTypesA findOne(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.findOne(operation, false);
+		}
+
+		public EvoType2DatedReadOnlyTypesA findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends EvoType2DatedReadOnlyTypesA> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new EvoType2DatedReadOnlyTypesAList((Operation) operation);
+		}
+
+		public MithraList<? extends EvoType2DatedReadOnlyTypesA> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			EvoType2DatedReadOnlyTypesAList result = (EvoType2DatedReadOnlyTypesAList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends EvoType2DatedReadOnlyTypesA> constructEmptyList()
+		{
+			return new EvoType2DatedReadOnlyTypesAList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -511972458;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.pk;
+			if (result == null)
+			{
+				result = new EvoType2DatedReadOnlyTypesAPkAttribute(this, this.zGetValueSelector());
+			}
+
+			this.pk = result;
+			return result;
+		}
+
+		public EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+		{
+			EvoTypesRoot.ManagedEvoTypesRootAttribute result = this.rootEvo;
+			if (result == null)
+			{
+				result = new EvoType2DatedReadOnlyTypesARootEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvo = result;
+			return result;
+		}
+
+		public EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+		{
+			EvoTypesNested.ManagedEvoTypesNestedAttribute result = this.rootEvoNestedEvo;
+			if (result == null)
+			{
+				result = new EvoType2DatedReadOnlyTypesARootEvoNestedEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvo = result;
+			return result;
+		}
+
+		public EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+		{
+			EvoTypesLeaf.ManagedEvoTypesLeafAttribute result = this.rootEvoNestedEvoLeafEvo;
+			if (result == null)
+			{
+				result = new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoAttribute(this, this.zGetValueSelector());
+			}
+
+			this.rootEvoNestedEvoLeafEvo = result;
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOLEAN_0","","booleanAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(EvoType2DatedReadOnlyTypesAFinder.booleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.booleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_0","","byteAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedByteAttribute(EvoType2DatedReadOnlyTypesAFinder.byteAttribute(), this.mapper, this.zGetValueSelector());
+				this.byteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.charAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_0","","charAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedCharAttribute(EvoType2DatedReadOnlyTypesAFinder.charAttribute(), this.mapper, this.zGetValueSelector());
+				this.charAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> dateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.dateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATE_0","","dateAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(EvoType2DatedReadOnlyTypesAFinder.dateAttribute(), this.mapper, this.zGetValueSelector());
+				this.dateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_0","","doubleAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(EvoType2DatedReadOnlyTypesAFinder.doubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.doubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_0","","floatAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(EvoType2DatedReadOnlyTypesAFinder.floatAttribute(), this.mapper, this.zGetValueSelector());
+				this.floatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_0","","intAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(EvoType2DatedReadOnlyTypesAFinder.intAttribute(), this.mapper, this.zGetValueSelector());
+				this.intAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.longAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_0","","longAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(EvoType2DatedReadOnlyTypesAFinder.longAttribute(), this.mapper, this.zGetValueSelector());
+				this.longAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_0","","shortAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1, false) :
+					new MappedShortAttribute(EvoType2DatedReadOnlyTypesAFinder.shortAttribute(), this.mapper, this.zGetValueSelector());
+				this.shortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> stringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.stringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STRING_0","","stringAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(EvoType2DatedReadOnlyTypesAFinder.stringAttribute(), this.mapper, this.zGetValueSelector());
+				this.stringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> timestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.timestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TIMESTAMP_0","","timestampAttribute",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType2DatedReadOnlyTypesAFinder.timestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.timestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,EvoType2DatedReadOnlyTypesAFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType2DatedReadOnlyTypesAFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,EvoType2DatedReadOnlyTypesAFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType2DatedReadOnlyTypesAFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,EvoType2DatedReadOnlyTypesAFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType2DatedReadOnlyTypesAFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,EvoType2DatedReadOnlyTypesAFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(EvoType2DatedReadOnlyTypesAFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> pkBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.pkBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType2DatedReadOnlyTypesAFinder.pkBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> pkByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.pkByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkByteAttributeAttribute():
+					new MappedByteAttribute(EvoType2DatedReadOnlyTypesAFinder.pkByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> pkCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.pkCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkCharAttributeAttribute():
+					new MappedCharAttribute(EvoType2DatedReadOnlyTypesAFinder.pkCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> pkDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.pkDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkDateAttributeAttribute():
+					new MappedDateAttribute(EvoType2DatedReadOnlyTypesAFinder.pkDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> pkDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.pkDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType2DatedReadOnlyTypesAFinder.pkDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> pkFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.pkFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType2DatedReadOnlyTypesAFinder.pkFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> pkIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.pkIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType2DatedReadOnlyTypesAFinder.pkIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> pkLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.pkLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkLongAttributeAttribute():
+					new MappedLongAttribute(EvoType2DatedReadOnlyTypesAFinder.pkLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> pkShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.pkShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkShortAttributeAttribute():
+					new MappedShortAttribute(EvoType2DatedReadOnlyTypesAFinder.pkShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> pkStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.pkStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkStringAttributeAttribute():
+					new MappedStringAttribute(EvoType2DatedReadOnlyTypesAFinder.pkStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> pkTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.pkTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType2DatedReadOnlyTypesAFinder.pkTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> pkBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.pkBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesAPkBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType2DatedReadOnlyTypesAFinder.pkBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.pkBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBooleanAttribute()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBooleanAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoBooleanAttributeAttribute():
+					new MappedBooleanAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBooleanAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoByteAttribute()
+		{
+			ByteAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoByteAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoByteAttributeAttribute():
+					new MappedByteAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoByteAttribute = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoCharAttribute()
+		{
+			CharAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoCharAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoCharAttributeAttribute():
+					new MappedCharAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoCharAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDateAttribute()
+		{
+			DateAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDateAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoDateAttributeAttribute():
+					new MappedDateAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoDateAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDateAttribute = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoDoubleAttribute()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoDoubleAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoDoubleAttributeAttribute():
+					new MappedDoubleAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoDoubleAttribute = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoFloatAttribute()
+		{
+			FloatAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoFloatAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoFloatAttributeAttribute():
+					new MappedFloatAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoFloatAttribute = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoIntAttribute()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoIntAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoIntAttributeAttribute():
+					new MappedIntegerAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoIntAttribute = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoLongAttribute()
+		{
+			LongAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoLongAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoLongAttributeAttribute():
+					new MappedLongAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoLongAttribute = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoShortAttribute()
+		{
+			ShortAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoShortAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoShortAttributeAttribute():
+					new MappedShortAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoShortAttribute = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoStringAttribute()
+		{
+			StringAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoStringAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoStringAttributeAttribute():
+					new MappedStringAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoStringAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoStringAttribute = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoTimestampAttribute()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoTimestampAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoTimestampAttributeAttribute():
+					new MappedTimestampAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoTimestampAttribute = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+			if (result == null)
+			{
+				result = mapper == null ? new EvoType2DatedReadOnlyTypesARootEvoNestedEvoLeafEvoBigDecimalAttributeAttribute():
+					new MappedBigDecimalAttribute(EvoType2DatedReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), this.mapper, this.zGetValueSelector());
+				this.rootEvoNestedEvoLeafEvoBigDecimalAttribute = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),EvoType2DatedReadOnlyTypesAFinder.businessDateInfinity,false,false,EvoType2DatedReadOnlyTypesAFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(EvoType2DatedReadOnlyTypesAFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),EvoType2DatedReadOnlyTypesAFinder.processingDateInfinity,false,false,EvoType2DatedReadOnlyTypesAFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(EvoType2DatedReadOnlyTypesAFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType2DatedReadOnlyTypesA> rootEvoOrder()
+		{
+			EvoType2DatedReadOnlyTypesARootEvoOrderFinderSubclass<ParentOwnerType> result = this.rootEvoOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType2DatedReadOnlyTypesAFinder.zGetEvoType2DatedReadOnlyTypesARootEvoOrderReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType2DatedReadOnlyTypesARootEvoOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoOrder = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType2DatedReadOnlyTypesA> rootEvoOrderWithDate(Timestamp date)
+		{
+			EvoType2DatedReadOnlyTypesARootEvoOrderWithDateFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType2DatedReadOnlyTypesAFinder.zGetEvoType2DatedReadOnlyTypesARootEvoOrderWithDateReverseMapper(date));
+			newMapper.setToMany(false);
+			result = new EvoType2DatedReadOnlyTypesARootEvoOrderWithDateFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,date);
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoOrderStatus()
+		{
+			EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> result = this.rootEvoNestedEvoOrderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(EvoType2DatedReadOnlyTypesAFinder.zGetEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.rootEvoNestedEvoOrderStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoOrderStatusWithStatus(int status)
+		{
+			EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(EvoType2DatedReadOnlyTypesAFinder.zGetEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusReverseMapper(status));
+			newMapper.setToMany(false);
+			result = new EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,status);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return EvoType2DatedReadOnlyTypesAFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesACollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends EvoType2DatedReadOnlyTypesARelatedFinder<ParentOwnerType, ReturnType, EvoType2DatedReadOnlyTypesAList, OwnerType>
+	{
+		public EvoType2DatedReadOnlyTypesACollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class EvoType2DatedReadOnlyTypesACollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends EvoType2DatedReadOnlyTypesACollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType2DatedReadOnlyTypesACollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class EvoType2DatedReadOnlyTypesASingleFinder<ParentOwnerType, ReturnType, OwnerType> extends EvoType2DatedReadOnlyTypesARelatedFinder<ParentOwnerType, ReturnType, EvoType2DatedReadOnlyTypesAList, OwnerType>
+	implements ToOneFinder
+	{
+		public EvoType2DatedReadOnlyTypesASingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public EvoType2DatedReadOnlyTypesASingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(EvoType2DatedReadOnlyTypesA other)
+		{
+			return this.pkBooleanAttribute().eq(other.isPkBooleanAttribute())
+			.and(this.pkByteAttribute().eq(other.getPkByteAttribute()))
+			.and(this.pkCharAttribute().eq(other.getPkCharAttribute()))
+			.and(this.pkDateAttribute().eq(other.getPkDateAttribute()))
+			.and(this.pkDoubleAttribute().eq(other.getPkDoubleAttribute()))
+			.and(this.pkFloatAttribute().eq(other.getPkFloatAttribute()))
+			.and(this.pkIntAttribute().eq(other.getPkIntAttribute()))
+			.and(this.pkLongAttribute().eq(other.getPkLongAttribute()))
+			.and(this.pkShortAttribute().eq(other.getPkShortAttribute()))
+			.and(this.pkStringAttribute().eq(other.getPkStringAttribute()))
+			.and(this.pkTimestampAttribute().eq(other.getPkTimestampAttribute()))
+			.and(this.pkBigDecimalAttribute().eq(other.getPkBigDecimalAttribute()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public EvoType2DatedReadOnlyTypesA findByPrimaryKey(boolean pkBooleanAttribute, byte pkByteAttribute, char pkCharAttribute, Date pkDateAttribute, double pkDoubleAttribute, float pkFloatAttribute, int pkIntAttribute, long pkLongAttribute, short pkShortAttribute, String pkStringAttribute, Timestamp pkTimestampAttribute, BigDecimal pkBigDecimalAttribute, Timestamp businessDate, Timestamp processingDate)
+		{
+			EvoType2DatedReadOnlyTypesA _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (!(_related instanceof NulledRelation)) _result = (EvoType2DatedReadOnlyTypesA) _related;
+			if (_related == null)
+			{
+				_op = this.pkBooleanAttribute().eq(pkBooleanAttribute).and(this.pkByteAttribute().eq(pkByteAttribute)).and(this.pkCharAttribute().eq(pkCharAttribute)).and(this.pkDateAttribute().eq(pkDateAttribute)).and(this.pkDoubleAttribute().eq(pkDoubleAttribute)).and(this.pkFloatAttribute().eq(pkFloatAttribute)).and(this.pkIntAttribute().eq(pkIntAttribute)).and(this.pkLongAttribute().eq(pkLongAttribute)).and(this.pkShortAttribute().eq(pkShortAttribute)).and(this.pkStringAttribute().eq(pkStringAttribute)).and(this.pkTimestampAttribute().eq(pkTimestampAttribute)).and(this.pkBigDecimalAttribute().eq(pkBigDecimalAttribute)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class EvoType2DatedReadOnlyTypesASingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends EvoType2DatedReadOnlyTypesASingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public EvoType2DatedReadOnlyTypesASingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper rootEvoOrderReverseMapper = null;
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoOrderReverseMapper()
+	{
+		if (rootEvoOrderReverseMapper == null)
+		{
+			rootEvoOrderReverseMapper = zConstructEvoType2DatedReadOnlyTypesARootEvoOrderReverseMapper();
+		}
+
+		return rootEvoOrderReverseMapper;
+	}
+
+	private static Mapper rootEvoOrderMapper = null;
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoOrderMapper()
+	{
+		if (rootEvoOrderMapper == null)
+		{
+			rootEvoOrderMapper = zConstructEvoType2DatedReadOnlyTypesARootEvoOrderMapper();
+		}
+
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper rootEvoOrderPureReverseMapper = null;
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoOrderPureReverseMapper()
+	{
+		if (rootEvoOrderPureReverseMapper == null)
+		{
+			rootEvoOrderPureReverseMapper = zConstructEvoType2DatedReadOnlyTypesARootEvoOrderPureReverseMapper();
+		}
+
+		return rootEvoOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoOrderPureReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoOrderReverseMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(0);
+		rootEvoOrderMapper.setName("rootEvoOrder");
+		return rootEvoOrderMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoOrderMapper()
+	{
+		Mapper rootEvoOrderMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(1);
+		rootEvoOrderMapper.setName("rootEvoOrder_Reverse");
+		return rootEvoOrderMapper;
+	}
+
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		return zConstructEvoType2DatedReadOnlyTypesARootEvoOrderWithDateReverseMapper(date);
+	}
+
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoOrderWithDateMapper(Timestamp date)
+	{
+		return zConstructEvoType2DatedReadOnlyTypesARootEvoOrderWithDateMapper(date);
+	}
+
+	private static Mapper rootEvoOrderWithDatePureReverseMapper = null;
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoOrderWithDatePureReverseMapper()
+	{
+		if (rootEvoOrderWithDatePureReverseMapper == null)
+		{
+			rootEvoOrderWithDatePureReverseMapper = zConstructEvoType2DatedReadOnlyTypesARootEvoOrderWithDatePureReverseMapper();
+		}
+
+		return rootEvoOrderWithDatePureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoOrderWithDatePureReverseMapper()
+	{
+		Mapper rootEvoOrderWithDateMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(0);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoOrderWithDateReverseMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(0);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, null, OrderFinder.orderDate().eq(date));
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoOrderWithDateMapper(Timestamp date)
+	{
+		Mapper rootEvoOrderWithDateMapperInnerMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(1);
+		Mapper rootEvoOrderWithDateMapper = new FilteredMapper(rootEvoOrderWithDateMapperInnerMapper, OrderFinder.orderDate().eq(date), null);
+		rootEvoOrderWithDateMapper.setName("rootEvoOrderWithDate_Reverse");
+		return rootEvoOrderWithDateMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusReverseMapper = null;
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusReverseMapper = zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusReverseMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusMapper = null;
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusMapper = zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusPureReverseMapper = zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(3);
+		rootEvoNestedEvoOrderStatusMapper.setName("rootEvoNestedEvoOrderStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusMapper;
+	}
+
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		return zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusReverseMapper(status);
+	}
+
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		return zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusMapper(status);
+	}
+
+	private static Mapper rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = null;
+	public static Mapper zGetEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		if (rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper == null)
+		{
+			rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper = zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusPureReverseMapper();
+		}
+
+		return rootEvoNestedEvoOrderStatusWithStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusPureReverseMapper()
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(2);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusReverseMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(2);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, null, OrderStatusFinder.status().eq(status));
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	private static Mapper zConstructEvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusMapper(int status)
+	{
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper = EvoType2DatedReadOnlyTypesAFinder.zGetConstantJoin(3);
+		Mapper rootEvoNestedEvoOrderStatusWithStatusMapper = new FilteredMapper(rootEvoNestedEvoOrderStatusWithStatusMapperInnerMapper, OrderStatusFinder.status().eq(status), null);
+		rootEvoNestedEvoOrderStatusWithStatusMapper.setName("rootEvoNestedEvoOrderStatusWithStatus_Reverse");
+		return rootEvoNestedEvoOrderStatusWithStatusMapper;
+	}
+
+	public static EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk()
+	{
+		return finder.pk();
+	}
+
+	public static EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo()
+	{
+		return finder.rootEvo();
+	}
+
+	protected static EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo()
+	{
+		return finder.rootEvoNestedEvo();
+	}
+
+	protected static EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo()
+	{
+		return finder.rootEvoNestedEvoLeafEvo();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.BOOLEAN_0 **/
+	public static BooleanAttribute<EvoType2DatedReadOnlyTypesA> booleanAttribute()
+	{
+		return finder.booleanAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.BYTE_0 **/
+	public static ByteAttribute<EvoType2DatedReadOnlyTypesA> byteAttribute()
+	{
+		return finder.byteAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.CHAR_0 **/
+	public static CharAttribute<EvoType2DatedReadOnlyTypesA> charAttribute()
+	{
+		return finder.charAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.DATE_0 **/
+	public static DateAttribute<EvoType2DatedReadOnlyTypesA> dateAttribute()
+	{
+		return finder.dateAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.DOUBLE_0 **/
+	public static DoubleAttribute<EvoType2DatedReadOnlyTypesA> doubleAttribute()
+	{
+		return finder.doubleAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.FLOAT_0 **/
+	public static FloatAttribute<EvoType2DatedReadOnlyTypesA> floatAttribute()
+	{
+		return finder.floatAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.INT_0 **/
+	public static IntegerAttribute<EvoType2DatedReadOnlyTypesA> intAttribute()
+	{
+		return finder.intAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.LONG_0 **/
+	public static LongAttribute<EvoType2DatedReadOnlyTypesA> longAttribute()
+	{
+		return finder.longAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.SHORT_0 **/
+	public static ShortAttribute<EvoType2DatedReadOnlyTypesA> shortAttribute()
+	{
+		return finder.shortAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.STRING_0 **/
+	public static StringAttribute<EvoType2DatedReadOnlyTypesA> stringAttribute()
+	{
+		return finder.stringAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.TIMESTAMP_0 **/
+	public static TimestampAttribute<EvoType2DatedReadOnlyTypesA> timestampAttribute()
+	{
+		return finder.timestampAttribute();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.FROM_Z **/
+	public static TimestampAttribute<EvoType2DatedReadOnlyTypesA> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.THRU_Z **/
+	public static TimestampAttribute<EvoType2DatedReadOnlyTypesA> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.IN_Z **/
+	public static TimestampAttribute<EvoType2DatedReadOnlyTypesA> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to EVO_TYPE2_DATED_READ_ONLY_TYPES_A.OUT_Z **/
+	public static TimestampAttribute<EvoType2DatedReadOnlyTypesA> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static BooleanAttribute<EvoType2DatedReadOnlyTypesA> pkBooleanAttribute()
+	{
+		return finder.pkBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType2DatedReadOnlyTypesA> pkByteAttribute()
+	{
+		return finder.pkByteAttribute();
+	}
+
+	public static CharAttribute<EvoType2DatedReadOnlyTypesA> pkCharAttribute()
+	{
+		return finder.pkCharAttribute();
+	}
+
+	public static DateAttribute<EvoType2DatedReadOnlyTypesA> pkDateAttribute()
+	{
+		return finder.pkDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType2DatedReadOnlyTypesA> pkDoubleAttribute()
+	{
+		return finder.pkDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType2DatedReadOnlyTypesA> pkFloatAttribute()
+	{
+		return finder.pkFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType2DatedReadOnlyTypesA> pkIntAttribute()
+	{
+		return finder.pkIntAttribute();
+	}
+
+	public static LongAttribute<EvoType2DatedReadOnlyTypesA> pkLongAttribute()
+	{
+		return finder.pkLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType2DatedReadOnlyTypesA> pkShortAttribute()
+	{
+		return finder.pkShortAttribute();
+	}
+
+	public static StringAttribute<EvoType2DatedReadOnlyTypesA> pkStringAttribute()
+	{
+		return finder.pkStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType2DatedReadOnlyTypesA> pkTimestampAttribute()
+	{
+		return finder.pkTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType2DatedReadOnlyTypesA> pkBigDecimalAttribute()
+	{
+		return finder.pkBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType2DatedReadOnlyTypesA> rootEvoBooleanAttribute()
+	{
+		return finder.rootEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType2DatedReadOnlyTypesA> rootEvoByteAttribute()
+	{
+		return finder.rootEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType2DatedReadOnlyTypesA> rootEvoCharAttribute()
+	{
+		return finder.rootEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType2DatedReadOnlyTypesA> rootEvoDateAttribute()
+	{
+		return finder.rootEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType2DatedReadOnlyTypesA> rootEvoDoubleAttribute()
+	{
+		return finder.rootEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType2DatedReadOnlyTypesA> rootEvoFloatAttribute()
+	{
+		return finder.rootEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType2DatedReadOnlyTypesA> rootEvoIntAttribute()
+	{
+		return finder.rootEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType2DatedReadOnlyTypesA> rootEvoLongAttribute()
+	{
+		return finder.rootEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType2DatedReadOnlyTypesA> rootEvoShortAttribute()
+	{
+		return finder.rootEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType2DatedReadOnlyTypesA> rootEvoStringAttribute()
+	{
+		return finder.rootEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType2DatedReadOnlyTypesA> rootEvoTimestampAttribute()
+	{
+		return finder.rootEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType2DatedReadOnlyTypesA> rootEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoBigDecimalAttribute();
+	}
+
+	public static BooleanAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBooleanAttribute();
+	}
+
+	public static ByteAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoByteAttribute();
+	}
+
+	public static CharAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoCharAttribute();
+	}
+
+	public static DateAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDateAttribute();
+	}
+
+	public static DoubleAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoDoubleAttribute();
+	}
+
+	public static FloatAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoFloatAttribute();
+	}
+
+	public static IntegerAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoIntAttribute();
+	}
+
+	public static LongAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoLongAttribute();
+	}
+
+	public static ShortAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoShortAttribute();
+	}
+
+	public static StringAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoStringAttribute();
+	}
+
+	public static TimestampAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoTimestampAttribute();
+	}
+
+	public static BigDecimalAttribute<EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		return finder.rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	}
+
+	public static AsOfAttribute<EvoType2DatedReadOnlyTypesA> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<EvoType2DatedReadOnlyTypesA> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType2DatedReadOnlyTypesA, Order, EvoType2DatedReadOnlyTypesA> rootEvoOrder()
+	{
+		return finder.rootEvoOrder();
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType2DatedReadOnlyTypesA>
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType2DatedReadOnlyTypesARootEvoOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(EvoType2DatedReadOnlyTypesA _obj)
+		{
+			return _obj.getRootEvoOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType2DatedReadOnlyTypesAList)_obj).getRootEvoOrders();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<EvoType2DatedReadOnlyTypesA, Order, EvoType2DatedReadOnlyTypesA> rootEvoOrderWithDate(Timestamp date)
+	{
+		return finder.rootEvoOrderWithDate(date);
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoOrderWithDateFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, EvoType2DatedReadOnlyTypesA>
+	{
+		private Timestamp date;
+		public EvoType2DatedReadOnlyTypesARootEvoOrderWithDateFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp date)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.date = date;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoOrderWithDate";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType2DatedReadOnlyTypesARootEvoOrderWithDateFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.date
+			);
+		}
+
+		protected Order plainValueOf(EvoType2DatedReadOnlyTypesA _obj)
+		{
+			return _obj.getRootEvoOrderWithDate(date);
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((EvoType2DatedReadOnlyTypesAList)_obj).getRootEvoOrderWithDates(date);
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType2DatedReadOnlyTypesA, OrderStatus, EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoOrderStatus()
+	{
+		return finder.rootEvoNestedEvoOrderStatus();
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType2DatedReadOnlyTypesA>
+	{
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType2DatedReadOnlyTypesA _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatus();
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType2DatedReadOnlyTypesAList)_obj).getRootEvoNestedEvoOrderStatus();
+		}
+	}
+
+	public static OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<EvoType2DatedReadOnlyTypesA, OrderStatus, EvoType2DatedReadOnlyTypesA> rootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return finder.rootEvoNestedEvoOrderStatusWithStatus(status);
+	}
+
+	public static class EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusFinderSubclass<ParentOwnerType> extends OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderStatus, EvoType2DatedReadOnlyTypesA>
+	{
+		private int status;
+		public EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int status)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.status = status;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "rootEvoNestedEvoOrderStatusWithStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new EvoType2DatedReadOnlyTypesARootEvoNestedEvoOrderStatusWithStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.status
+			);
+		}
+
+		protected OrderStatus plainValueOf(EvoType2DatedReadOnlyTypesA _obj)
+		{
+			return _obj.getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+
+		protected OrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((EvoType2DatedReadOnlyTypesAList)_obj).getRootEvoNestedEvoOrderStatusWithStatus(status);
+		}
+	}
+
+	public static Operation eq(EvoType2DatedReadOnlyTypesA other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(pkBooleanAttribute());
+	}
+
+	public static EvoType2DatedReadOnlyTypesASingleFinder<EvoType2DatedReadOnlyTypesA, Object, EvoType2DatedReadOnlyTypesA> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			booleanAttribute()
+			, pkBooleanAttribute()
+			, pkByteAttribute()
+			, pkCharAttribute()
+			, pkDateAttribute()
+			, pkDoubleAttribute()
+			, pkFloatAttribute()
+			, pkIntAttribute()
+			, pkLongAttribute()
+			, pkShortAttribute()
+			, pkStringAttribute()
+			, pkTimestampAttribute()
+			, pkBigDecimalAttribute()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			rootEvoIntAttribute()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			rootEvoNestedEvoIntAttribute()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderStatusFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[5];
+		result[0] = doubleAttribute();
+		result[1] = pkDoubleAttribute();
+		result[2] = rootEvoDoubleAttribute();
+		result[3] = rootEvoNestedEvoDoubleAttribute();
+		result[4] = rootEvoNestedEvoLeafEvoDoubleAttribute();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[4];
+		result[0] = pkBigDecimalAttribute();
+		result[1] = rootEvoBigDecimalAttribute();
+		result[2] = rootEvoNestedEvoBigDecimalAttribute();
+		result[3] = rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.evo.EvoType2DatedReadOnlyTypesA");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
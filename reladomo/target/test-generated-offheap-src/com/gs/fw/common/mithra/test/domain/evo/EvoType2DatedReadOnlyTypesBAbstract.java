@@ -0,0 +1,2210 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class EvoType2DatedReadOnlyTypesBAbstract extends com.gs.fw.common.mithra.test.domain.evo.EvoType2DatedReadOnlyTypes
+implements MithraDatedObject, Serializable
+{
+	protected EvoType2DatedReadOnlyTypesBData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp businessDate;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy forrootEvoOrder = new RootEvoOrderRhs();
+	private static final RelationshipHashStrategy forrootEvoNestedEvoOrderStatus = new RootEvoNestedEvoOrderStatusRhs();
+	private static final class RootEvoOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			EvoType2DatedReadOnlyTypesBData _castedSrcData = (EvoType2DatedReadOnlyTypesBData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isRootEvoIntAttributeNull() && _castedSrcData.getRootEvoIntAttribute() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			EvoType2DatedReadOnlyTypesBData _castedSrcData = (EvoType2DatedReadOnlyTypesBData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRootEvoIntAttribute(), _castedSrcData.isRootEvoIntAttributeNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class RootEvoNestedEvoOrderStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			EvoType2DatedReadOnlyTypesBData _castedSrcData = (EvoType2DatedReadOnlyTypesBData) _srcData;
+			OrderStatusData _castedTargetData = (OrderStatusData) _targetData;
+			if (!_castedSrcData.isRootEvoNestedEvoIntAttributeNull() && _castedSrcData.getRootEvoNestedEvoIntAttribute() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			EvoType2DatedReadOnlyTypesBData _castedSrcData = (EvoType2DatedReadOnlyTypesBData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRootEvoNestedEvoIntAttribute(), _castedSrcData.isRootEvoNestedEvoIntAttributeNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public EvoType2DatedReadOnlyTypesBAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, EvoType2DatedReadOnlyTypesBFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, EvoType2DatedReadOnlyTypesBFinder.isFullCache());
+	}
+
+	public EvoType2DatedReadOnlyTypesBAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromEvoType2DatedReadOnlyTypesBData( EvoType2DatedReadOnlyTypesBData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromEvoType2DatedReadOnlyTypesBData( EvoType2DatedReadOnlyTypesBData data )
+	{
+		this.setFromEvoType2DatedReadOnlyTypesBData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromEvoType2DatedReadOnlyTypesBData( (EvoType2DatedReadOnlyTypesBData) data );
+	}
+
+	public EvoType2DatedReadOnlyTypesB getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		EvoType2DatedReadOnlyTypesBAbstract copy = (EvoType2DatedReadOnlyTypesBAbstract)
+		EvoType2DatedReadOnlyTypesBFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (EvoType2DatedReadOnlyTypesB)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		EvoType2DatedReadOnlyTypesBData data = (EvoType2DatedReadOnlyTypesBData) EvoType2DatedReadOnlyTypesBFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("EvoType2DatedReadOnlyTypesB has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return EvoType2DatedReadOnlyTypesBFinder.getMithraObjectPortal().getCache();
+	}
+
+	public EvoType2DatedReadOnlyTypesBData zGetCurrentDataWithCheck()
+	{
+		EvoType2DatedReadOnlyTypesBData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private EvoType2DatedReadOnlyTypesBData zRefreshData(EvoType2DatedReadOnlyTypesBData current)
+	{
+		EvoType2DatedReadOnlyTypesBData newData = (EvoType2DatedReadOnlyTypesBData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("EvoType2DatedReadOnlyTypesB has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(EvoType2DatedReadOnlyTypesBData current)
+	{
+		boolean refresh = !EvoType2DatedReadOnlyTypesBFinder.businessDate().dataMatches(current, businessDate);
+		if (!refresh)
+		{
+			refresh = !EvoType2DatedReadOnlyTypesBFinder.processingDate().dataMatches(current, processingDate);
+		}
+
+		return refresh;
+	}
+
+	private EvoType2DatedReadOnlyTypesBData zGetOrInitializeInMemoryData()
+	{
+		EvoType2DatedReadOnlyTypesBData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new EvoType2DatedReadOnlyTypesBData();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		EvoType2DatedReadOnlyTypesBData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			EvoType2DatedReadOnlyTypesBData newData = (EvoType2DatedReadOnlyTypesBData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBooleanAttributeNull();
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isBooleanAttributeNull())
+		MithraNullPrimitiveException.throwNew("booleanAttribute", data);
+		return data.isBooleanAttribute();
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBooleanAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateFromNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateFrom(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateToNull();
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateTo(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isByteAttributeNull();
+	}
+
+	public byte getByteAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isByteAttributeNull())
+		MithraNullPrimitiveException.throwNew("byteAttribute", data);
+		return data.getByteAttribute();
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setByteAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isCharAttributeNull();
+	}
+
+	public char getCharAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isCharAttributeNull())
+		MithraNullPrimitiveException.throwNew("charAttribute", data);
+		return data.getCharAttribute();
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCharAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDateAttributeNull();
+	}
+
+	public Date getDateAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getDateAttribute();
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDateAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDoubleAttributeNull();
+	}
+
+	public double getDoubleAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isDoubleAttributeNull())
+		MithraNullPrimitiveException.throwNew("doubleAttribute", data);
+		return data.getDoubleAttribute();
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDoubleAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isFloatAttributeNull();
+	}
+
+	public float getFloatAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isFloatAttributeNull())
+		MithraNullPrimitiveException.throwNew("floatAttribute", data);
+		return data.getFloatAttribute();
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setFloatAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isIntAttributeNull();
+	}
+
+	public int getIntAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isIntAttributeNull())
+		MithraNullPrimitiveException.throwNew("intAttribute", data);
+		return data.getIntAttribute();
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setIntAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isLongAttributeNull();
+	}
+
+	public long getLongAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isLongAttributeNull())
+		MithraNullPrimitiveException.throwNew("longAttribute", data);
+		return data.getLongAttribute();
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setLongAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkBigDecimalAttributeNull()
+	{
+		return this.currentData.isPkBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getPkBigDecimalAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkBigDecimalAttribute();
+	}
+
+	protected void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkBigDecimalAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkBooleanAttributeNull()
+	{
+		return this.currentData.isPkBooleanAttributeNull();
+	}
+
+	protected boolean isPkBooleanAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.isPkBooleanAttribute();
+	}
+
+	protected void setPkBooleanAttribute(boolean newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkBooleanAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkByteAttributeNull()
+	{
+		return this.currentData.isPkByteAttributeNull();
+	}
+
+	protected byte getPkByteAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkByteAttribute();
+	}
+
+	protected void setPkByteAttribute(byte newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkByteAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkCharAttributeNull()
+	{
+		return this.currentData.isPkCharAttributeNull();
+	}
+
+	protected char getPkCharAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkCharAttribute();
+	}
+
+	protected void setPkCharAttribute(char newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkCharAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkDateAttributeNull()
+	{
+		return this.currentData.isPkDateAttributeNull();
+	}
+
+	protected Date getPkDateAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkDateAttribute();
+	}
+
+	protected void setPkDateAttribute(Date newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkDateAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkDoubleAttributeNull()
+	{
+		return this.currentData.isPkDoubleAttributeNull();
+	}
+
+	protected double getPkDoubleAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkDoubleAttribute();
+	}
+
+	protected void setPkDoubleAttribute(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkDoubleAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkFloatAttributeNull()
+	{
+		return this.currentData.isPkFloatAttributeNull();
+	}
+
+	protected float getPkFloatAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkFloatAttribute();
+	}
+
+	protected void setPkFloatAttribute(float newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkFloatAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkIntAttributeNull()
+	{
+		return this.currentData.isPkIntAttributeNull();
+	}
+
+	protected int getPkIntAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkIntAttribute();
+	}
+
+	protected void setPkIntAttribute(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkIntAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkLongAttributeNull()
+	{
+		return this.currentData.isPkLongAttributeNull();
+	}
+
+	protected long getPkLongAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkLongAttribute();
+	}
+
+	protected void setPkLongAttribute(long newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkLongAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkShortAttributeNull()
+	{
+		return this.currentData.isPkShortAttributeNull();
+	}
+
+	protected short getPkShortAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkShortAttribute();
+	}
+
+	protected void setPkShortAttribute(short newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkShortAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkStringAttributeNull()
+	{
+		return this.currentData.isPkStringAttributeNull();
+	}
+
+	protected String getPkStringAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkStringAttribute();
+	}
+
+	protected void setPkStringAttribute(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkStringAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkTimestampAttributeNull()
+	{
+		return this.currentData.isPkTimestampAttributeNull();
+	}
+
+	protected Timestamp getPkTimestampAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.currentData;
+		return data.getPkTimestampAttribute();
+	}
+
+	protected void setPkTimestampAttribute(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkTimestampAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoBigDecimalAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getRootEvoBigDecimalAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoBigDecimalAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoBooleanAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoBooleanAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoBooleanAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoBooleanAttribute", data);
+		return data.isRootEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoBooleanAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoByteAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoByteAttributeNull();
+	}
+
+	protected byte getRootEvoByteAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoByteAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoByteAttribute", data);
+		return data.getRootEvoByteAttribute();
+	}
+
+	protected void setRootEvoByteAttribute(byte newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoByteAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoCharAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoCharAttributeNull();
+	}
+
+	protected char getRootEvoCharAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoCharAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoCharAttribute", data);
+		return data.getRootEvoCharAttribute();
+	}
+
+	protected void setRootEvoCharAttribute(char newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoCharAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoDateAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoDateAttributeNull();
+	}
+
+	protected Date getRootEvoDateAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoDateAttribute();
+	}
+
+	protected void setRootEvoDateAttribute(Date newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoDateAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoDoubleAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoDoubleAttributeNull();
+	}
+
+	protected double getRootEvoDoubleAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoDoubleAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoDoubleAttribute", data);
+		return data.getRootEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoDoubleAttribute(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoDoubleAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoFloatAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoFloatAttributeNull();
+	}
+
+	protected float getRootEvoFloatAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoFloatAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoFloatAttribute", data);
+		return data.getRootEvoFloatAttribute();
+	}
+
+	protected void setRootEvoFloatAttribute(float newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoFloatAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoIntAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoIntAttributeNull();
+	}
+
+	protected int getRootEvoIntAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoIntAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoIntAttribute", data);
+		return data.getRootEvoIntAttribute();
+	}
+
+	protected void setRootEvoIntAttribute(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoIntAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoLongAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoLongAttributeNull();
+	}
+
+	protected long getRootEvoLongAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoLongAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoLongAttribute", data);
+		return data.getRootEvoLongAttribute();
+	}
+
+	protected void setRootEvoLongAttribute(long newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoLongAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoBigDecimalAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getRootEvoNestedEvoBigDecimalAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoNestedEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoBigDecimalAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoBooleanAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoBooleanAttribute", data);
+		return data.isRootEvoNestedEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttribute(boolean newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoBooleanAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoByteAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoByteAttributeNull();
+	}
+
+	protected byte getRootEvoNestedEvoByteAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoByteAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoByteAttribute", data);
+		return data.getRootEvoNestedEvoByteAttribute();
+	}
+
+	protected void setRootEvoNestedEvoByteAttribute(byte newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoByteAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoCharAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoCharAttributeNull();
+	}
+
+	protected char getRootEvoNestedEvoCharAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoCharAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoCharAttribute", data);
+		return data.getRootEvoNestedEvoCharAttribute();
+	}
+
+	protected void setRootEvoNestedEvoCharAttribute(char newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoCharAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoDateAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoDateAttributeNull();
+	}
+
+	protected Date getRootEvoNestedEvoDateAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoNestedEvoDateAttribute();
+	}
+
+	protected void setRootEvoNestedEvoDateAttribute(Date newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoDateAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoDoubleAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoDoubleAttributeNull();
+	}
+
+	protected double getRootEvoNestedEvoDoubleAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoDoubleAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoDoubleAttribute", data);
+		return data.getRootEvoNestedEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttribute(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoDoubleAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoFloatAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoFloatAttributeNull();
+	}
+
+	protected float getRootEvoNestedEvoFloatAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoFloatAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoFloatAttribute", data);
+		return data.getRootEvoNestedEvoFloatAttribute();
+	}
+
+	protected void setRootEvoNestedEvoFloatAttribute(float newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoFloatAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoIntAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoIntAttributeNull();
+	}
+
+	protected int getRootEvoNestedEvoIntAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoIntAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoIntAttribute", data);
+		return data.getRootEvoNestedEvoIntAttribute();
+	}
+
+	protected void setRootEvoNestedEvoIntAttribute(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoIntAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getRootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoBooleanAttribute", data);
+		return data.isRootEvoNestedEvoLeafEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoBooleanAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoByteAttributeNull();
+	}
+
+	protected byte getRootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoByteAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoByteAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttribute(byte newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoByteAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoCharAttributeNull();
+	}
+
+	protected char getRootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoCharAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoCharAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttribute(char newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoCharAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDateAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoDateAttributeNull();
+	}
+
+	protected Date getRootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoNestedEvoLeafEvoDateAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDateAttribute(Date newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoDateAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+	}
+
+	protected double getRootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoDoubleAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttribute(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoDoubleAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+	}
+
+	protected float getRootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoFloatAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoFloatAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttribute(float newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoFloatAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoIntAttributeNull();
+	}
+
+	protected int getRootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoIntAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoIntAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttribute(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoIntAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoLongAttributeNull();
+	}
+
+	protected long getRootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoLongAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoLongAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttribute(long newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoLongAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoShortAttributeNull();
+	}
+
+	protected short getRootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoShortAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoShortAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttribute(short newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoShortAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoStringAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoStringAttributeNull();
+	}
+
+	protected String getRootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoNestedEvoLeafEvoStringAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoStringAttribute(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoStringAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoTimestampAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLeafEvoTimestampAttributeNull();
+	}
+
+	protected Timestamp getRootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoNestedEvoLeafEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoTimestampAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLongAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoLongAttributeNull();
+	}
+
+	protected long getRootEvoNestedEvoLongAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoLongAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLongAttribute", data);
+		return data.getRootEvoNestedEvoLongAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLongAttribute(long newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLongAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoShortAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoShortAttributeNull();
+	}
+
+	protected short getRootEvoNestedEvoShortAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoNestedEvoShortAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoNestedEvoShortAttribute", data);
+		return data.getRootEvoNestedEvoShortAttribute();
+	}
+
+	protected void setRootEvoNestedEvoShortAttribute(short newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoShortAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoStringAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoStringAttributeNull();
+	}
+
+	protected String getRootEvoNestedEvoStringAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoNestedEvoStringAttribute();
+	}
+
+	protected void setRootEvoNestedEvoStringAttribute(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoStringAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoTimestampAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoNestedEvoTimestampAttributeNull();
+	}
+
+	protected Timestamp getRootEvoNestedEvoTimestampAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoNestedEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoNestedEvoTimestampAttribute(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoTimestampAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoShortAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoShortAttributeNull();
+	}
+
+	protected short getRootEvoShortAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isRootEvoShortAttributeNull())
+		MithraNullPrimitiveException.throwNew("rootEvoShortAttribute", data);
+		return data.getRootEvoShortAttribute();
+	}
+
+	protected void setRootEvoShortAttribute(short newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoShortAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoStringAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoStringAttributeNull();
+	}
+
+	protected String getRootEvoStringAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoStringAttribute();
+	}
+
+	protected void setRootEvoStringAttribute(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoStringAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoTimestampAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isRootEvoTimestampAttributeNull();
+	}
+
+	protected Timestamp getRootEvoTimestampAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getRootEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoTimestampAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isShortAttributeNull();
+	}
+
+	public short getShortAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		if (data.isShortAttributeNull())
+		MithraNullPrimitiveException.throwNew("shortAttribute", data);
+		return data.getShortAttribute();
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setShortAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isStringAttributeNull();
+	}
+
+	public String getStringAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getStringAttribute();
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setStringAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTimestampAttributeNull();
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		EvoType2DatedReadOnlyTypesBData data = this.zGetCurrentDataWithCheck();
+		return data.getTimestampAttribute();
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTimestampAttribute(newValue);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public EvoTypesLeaf getPk()
+	{
+		EvoType2DatedReadOnlyTypesBData data = (EvoType2DatedReadOnlyTypesBData) this.zGetCurrentDataWithCheck();
+		EvoTypesLeaf evo = data.getPk();
+		if (evo == null)
+		{
+			evo = EvoTypesLeaf.managedInstance(this, EvoType2DatedReadOnlyTypesBFinder.pk());
+			data.setPk(evo);
+		}
+
+		return evo;
+	}
+
+	public void copyPk(EvoTypesLeaf pk)
+	{
+		this.ensureSetAttributeAllowed();
+		this.setPkBooleanAttribute(pk.getBooleanAttribute());
+		this.setPkByteAttribute(pk.getByteAttribute());
+		this.setPkCharAttribute(pk.getCharAttribute());
+		this.setPkDateAttribute(pk.getDateAttribute());
+		this.setPkDoubleAttribute(pk.getDoubleAttribute());
+		this.setPkFloatAttribute(pk.getFloatAttribute());
+		this.setPkIntAttribute(pk.getIntAttribute());
+		this.setPkLongAttribute(pk.getLongAttribute());
+		this.setPkShortAttribute(pk.getShortAttribute());
+		this.setPkStringAttribute(pk.getStringAttribute());
+		this.setPkTimestampAttribute(pk.getTimestampAttribute());
+		this.setPkBigDecimalAttribute(pk.getBigDecimalAttribute());
+	}
+
+	public void copyPkUntil(EvoTypesLeaf pk, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("copyPkUntil is only implemented for dated transactional objects.");
+	}
+
+	public EvoTypesRoot getRootEvo()
+	{
+		EvoType2DatedReadOnlyTypesBData data = (EvoType2DatedReadOnlyTypesBData) this.zGetCurrentDataWithCheck();
+		EvoTypesRoot evo = data.getRootEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesRoot.managedInstance(this, EvoType2DatedReadOnlyTypesBFinder.rootEvo());
+			data.setRootEvo(evo);
+		}
+
+		return evo;
+	}
+
+	public void copyRootEvo(EvoTypesRoot rootEvo)
+	{
+		this.ensureSetAttributeAllowed();
+		this.setRootEvoBooleanAttribute(rootEvo.getBooleanAttribute());
+		this.setRootEvoByteAttribute(rootEvo.getByteAttribute());
+		this.setRootEvoCharAttribute(rootEvo.getCharAttribute());
+		this.setRootEvoDateAttribute(rootEvo.getDateAttribute());
+		this.setRootEvoDoubleAttribute(rootEvo.getDoubleAttribute());
+		this.setRootEvoFloatAttribute(rootEvo.getFloatAttribute());
+		this.setRootEvoIntAttribute(rootEvo.getIntAttribute());
+		this.setRootEvoLongAttribute(rootEvo.getLongAttribute());
+		this.setRootEvoShortAttribute(rootEvo.getShortAttribute());
+		this.setRootEvoStringAttribute(rootEvo.getStringAttribute());
+		this.setRootEvoTimestampAttribute(rootEvo.getTimestampAttribute());
+		this.setRootEvoBigDecimalAttribute(rootEvo.getBigDecimalAttribute());
+		this.setRootEvoNestedEvoBooleanAttribute(rootEvo.getNestedEvo().getBooleanAttribute());
+		this.setRootEvoNestedEvoByteAttribute(rootEvo.getNestedEvo().getByteAttribute());
+		this.setRootEvoNestedEvoCharAttribute(rootEvo.getNestedEvo().getCharAttribute());
+		this.setRootEvoNestedEvoDateAttribute(rootEvo.getNestedEvo().getDateAttribute());
+		this.setRootEvoNestedEvoDoubleAttribute(rootEvo.getNestedEvo().getDoubleAttribute());
+		this.setRootEvoNestedEvoFloatAttribute(rootEvo.getNestedEvo().getFloatAttribute());
+		this.setRootEvoNestedEvoIntAttribute(rootEvo.getNestedEvo().getIntAttribute());
+		this.setRootEvoNestedEvoLongAttribute(rootEvo.getNestedEvo().getLongAttribute());
+		this.setRootEvoNestedEvoShortAttribute(rootEvo.getNestedEvo().getShortAttribute());
+		this.setRootEvoNestedEvoStringAttribute(rootEvo.getNestedEvo().getStringAttribute());
+		this.setRootEvoNestedEvoTimestampAttribute(rootEvo.getNestedEvo().getTimestampAttribute());
+		this.setRootEvoNestedEvoBigDecimalAttribute(rootEvo.getNestedEvo().getBigDecimalAttribute());
+		this.setRootEvoNestedEvoLeafEvoBooleanAttribute(rootEvo.getNestedEvo().getLeafEvo().getBooleanAttribute());
+		this.setRootEvoNestedEvoLeafEvoByteAttribute(rootEvo.getNestedEvo().getLeafEvo().getByteAttribute());
+		this.setRootEvoNestedEvoLeafEvoCharAttribute(rootEvo.getNestedEvo().getLeafEvo().getCharAttribute());
+		this.setRootEvoNestedEvoLeafEvoDateAttribute(rootEvo.getNestedEvo().getLeafEvo().getDateAttribute());
+		this.setRootEvoNestedEvoLeafEvoDoubleAttribute(rootEvo.getNestedEvo().getLeafEvo().getDoubleAttribute());
+		this.setRootEvoNestedEvoLeafEvoFloatAttribute(rootEvo.getNestedEvo().getLeafEvo().getFloatAttribute());
+		this.setRootEvoNestedEvoLeafEvoIntAttribute(rootEvo.getNestedEvo().getLeafEvo().getIntAttribute());
+		this.setRootEvoNestedEvoLeafEvoLongAttribute(rootEvo.getNestedEvo().getLeafEvo().getLongAttribute());
+		this.setRootEvoNestedEvoLeafEvoShortAttribute(rootEvo.getNestedEvo().getLeafEvo().getShortAttribute());
+		this.setRootEvoNestedEvoLeafEvoStringAttribute(rootEvo.getNestedEvo().getLeafEvo().getStringAttribute());
+		this.setRootEvoNestedEvoLeafEvoTimestampAttribute(rootEvo.getNestedEvo().getLeafEvo().getTimestampAttribute());
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(rootEvo.getNestedEvo().getLeafEvo().getBigDecimalAttribute());
+	}
+
+	public void copyRootEvoUntil(EvoTypesRoot rootEvo, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("copyRootEvoUntil is only implemented for dated transactional objects.");
+	}
+
+	protected EvoTypesNested getRootEvoNestedEvo()
+	{
+		EvoType2DatedReadOnlyTypesBData data = (EvoType2DatedReadOnlyTypesBData) this.zGetCurrentDataWithCheck();
+		EvoTypesNested evo = data.getRootEvoNestedEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesNested.managedInstance(this, EvoType2DatedReadOnlyTypesBFinder.rootEvoNestedEvo());
+			data.setRootEvoNestedEvo(evo);
+		}
+
+		return evo;
+	}
+
+	protected void copyRootEvoNestedEvo(EvoTypesNested nestedEvo)
+	{
+		this.ensureSetAttributeAllowed();
+		this.setRootEvoNestedEvoBooleanAttribute(nestedEvo.getBooleanAttribute());
+		this.setRootEvoNestedEvoByteAttribute(nestedEvo.getByteAttribute());
+		this.setRootEvoNestedEvoCharAttribute(nestedEvo.getCharAttribute());
+		this.setRootEvoNestedEvoDateAttribute(nestedEvo.getDateAttribute());
+		this.setRootEvoNestedEvoDoubleAttribute(nestedEvo.getDoubleAttribute());
+		this.setRootEvoNestedEvoFloatAttribute(nestedEvo.getFloatAttribute());
+		this.setRootEvoNestedEvoIntAttribute(nestedEvo.getIntAttribute());
+		this.setRootEvoNestedEvoLongAttribute(nestedEvo.getLongAttribute());
+		this.setRootEvoNestedEvoShortAttribute(nestedEvo.getShortAttribute());
+		this.setRootEvoNestedEvoStringAttribute(nestedEvo.getStringAttribute());
+		this.setRootEvoNestedEvoTimestampAttribute(nestedEvo.getTimestampAttribute());
+		this.setRootEvoNestedEvoBigDecimalAttribute(nestedEvo.getBigDecimalAttribute());
+		this.setRootEvoNestedEvoLeafEvoBooleanAttribute(nestedEvo.getLeafEvo().getBooleanAttribute());
+		this.setRootEvoNestedEvoLeafEvoByteAttribute(nestedEvo.getLeafEvo().getByteAttribute());
+		this.setRootEvoNestedEvoLeafEvoCharAttribute(nestedEvo.getLeafEvo().getCharAttribute());
+		this.setRootEvoNestedEvoLeafEvoDateAttribute(nestedEvo.getLeafEvo().getDateAttribute());
+		this.setRootEvoNestedEvoLeafEvoDoubleAttribute(nestedEvo.getLeafEvo().getDoubleAttribute());
+		this.setRootEvoNestedEvoLeafEvoFloatAttribute(nestedEvo.getLeafEvo().getFloatAttribute());
+		this.setRootEvoNestedEvoLeafEvoIntAttribute(nestedEvo.getLeafEvo().getIntAttribute());
+		this.setRootEvoNestedEvoLeafEvoLongAttribute(nestedEvo.getLeafEvo().getLongAttribute());
+		this.setRootEvoNestedEvoLeafEvoShortAttribute(nestedEvo.getLeafEvo().getShortAttribute());
+		this.setRootEvoNestedEvoLeafEvoStringAttribute(nestedEvo.getLeafEvo().getStringAttribute());
+		this.setRootEvoNestedEvoLeafEvoTimestampAttribute(nestedEvo.getLeafEvo().getTimestampAttribute());
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(nestedEvo.getLeafEvo().getBigDecimalAttribute());
+	}
+
+	protected void copyRootEvoNestedEvoUntil(EvoTypesNested nestedEvo, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("copyRootEvoNestedEvoUntil is only implemented for dated transactional objects.");
+	}
+
+	protected EvoTypesLeaf getRootEvoNestedEvoLeafEvo()
+	{
+		EvoType2DatedReadOnlyTypesBData data = (EvoType2DatedReadOnlyTypesBData) this.zGetCurrentDataWithCheck();
+		EvoTypesLeaf evo = data.getRootEvoNestedEvoLeafEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesLeaf.managedInstance(this, EvoType2DatedReadOnlyTypesBFinder.rootEvoNestedEvoLeafEvo());
+			data.setRootEvoNestedEvoLeafEvo(evo);
+		}
+
+		return evo;
+	}
+
+	protected void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf leafEvo)
+	{
+		this.ensureSetAttributeAllowed();
+		this.setRootEvoNestedEvoLeafEvoBooleanAttribute(leafEvo.getBooleanAttribute());
+		this.setRootEvoNestedEvoLeafEvoByteAttribute(leafEvo.getByteAttribute());
+		this.setRootEvoNestedEvoLeafEvoCharAttribute(leafEvo.getCharAttribute());
+		this.setRootEvoNestedEvoLeafEvoDateAttribute(leafEvo.getDateAttribute());
+		this.setRootEvoNestedEvoLeafEvoDoubleAttribute(leafEvo.getDoubleAttribute());
+		this.setRootEvoNestedEvoLeafEvoFloatAttribute(leafEvo.getFloatAttribute());
+		this.setRootEvoNestedEvoLeafEvoIntAttribute(leafEvo.getIntAttribute());
+		this.setRootEvoNestedEvoLeafEvoLongAttribute(leafEvo.getLongAttribute());
+		this.setRootEvoNestedEvoLeafEvoShortAttribute(leafEvo.getShortAttribute());
+		this.setRootEvoNestedEvoLeafEvoStringAttribute(leafEvo.getStringAttribute());
+		this.setRootEvoNestedEvoLeafEvoTimestampAttribute(leafEvo.getTimestampAttribute());
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(leafEvo.getBigDecimalAttribute());
+	}
+
+	protected void copyRootEvoNestedEvoLeafEvoUntil(EvoTypesLeaf leafEvo, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("copyRootEvoNestedEvoLeafEvoUntil is only implemented for dated transactional objects.");
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBooleanAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setByteAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setByteAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setCharAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCharAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDoubleAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setFloatAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setFloatAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setIntAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setIntAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setLongAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setLongAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setShortAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setShortAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoBooleanAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoBooleanAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoByteAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoByteAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoCharAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoCharAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoDoubleAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoDoubleAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoFloatAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoFloatAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoIntAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoIntAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoLongAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoLongAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoShortAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoShortAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoBooleanAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoByteAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoByteAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoCharAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoCharAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoDoubleAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoFloatAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoIntAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoIntAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLongAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLongAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoShortAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoShortAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoByteAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoCharAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoIntAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoLongAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setRootEvoNestedEvoLeafEvoShortAttributeNull();
+		this.resetEmbeddedValueObjects();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public Order getRootEvoOrder()
+	{
+		EvoType2DatedReadOnlyTypesBData _data = ((EvoType2DatedReadOnlyTypesBData)this.zGetCurrentDataWithCheck());
+		Order _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (Order) _data.getRootEvoOrder();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isRootEvoIntAttributeNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrootEvoOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = OrderFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public Order getRootEvoOrderWithDate(Timestamp date)
+	{
+		EvoType2DatedReadOnlyTypesBData _data = ((EvoType2DatedReadOnlyTypesBData)this.zGetCurrentDataWithCheck());
+		Order _result = null;
+		if (_result == null)
+		{
+			Operation _op = null;
+			if (!_data.isRootEvoIntAttributeNull())
+			{
+				{
+					_op = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute()).and(OrderFinder.orderDate().eq(date));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = OrderFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatus getRootEvoNestedEvoOrderStatus()
+	{
+		EvoType2DatedReadOnlyTypesBData _data = ((EvoType2DatedReadOnlyTypesBData)this.zGetCurrentDataWithCheck());
+		OrderStatus _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (OrderStatus) _data.getRootEvoNestedEvoOrderStatus();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isRootEvoNestedEvoIntAttributeNull())
+			{
+				_portal = OrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrootEvoNestedEvoOrderStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatus) _related;
+				if (_related == null)
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = OrderStatusFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatus getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		EvoType2DatedReadOnlyTypesBData _data = ((EvoType2DatedReadOnlyTypesBData)this.zGetCurrentDataWithCheck());
+		OrderStatus _result = null;
+		if (_result == null)
+		{
+			Operation _op = null;
+			if (!_data.isRootEvoNestedEvoIntAttributeNull())
+			{
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute()).and(OrderStatusFinder.status().eq(status));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = OrderStatusFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setRootEvoOrder(Order rootEvoOrder)
+	{
+		this.ensureSetAttributeAllowed();
+		EvoType2DatedReadOnlyTypesBData _data = this.zGetCurrentDataWithCheck();
+		_data.setRootEvoOrder(rootEvoOrder);
+		if (rootEvoOrder == null)
+		{
+			this.setRootEvoIntAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoIntAttribute(
+				rootEvoOrder.getOrderId());
+		}
+	}
+
+	public void setRootEvoNestedEvoOrderStatus(OrderStatus rootEvoNestedEvoOrderStatus)
+	{
+		this.ensureSetAttributeAllowed();
+		EvoType2DatedReadOnlyTypesBData _data = this.zGetCurrentDataWithCheck();
+		_data.setRootEvoNestedEvoOrderStatus(rootEvoNestedEvoOrderStatus);
+		if (rootEvoNestedEvoOrderStatus == null)
+		{
+			this.setRootEvoNestedEvoIntAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoIntAttribute(
+				rootEvoNestedEvoOrderStatus.getOrderId());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		EvoType2DatedReadOnlyTypesBData data = ((EvoType2DatedReadOnlyTypesBData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		EvoType2DatedReadOnlyTypesBData data = ((EvoType2DatedReadOnlyTypesBData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new EvoType2DatedReadOnlyTypesBData();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), EvoType2DatedReadOnlyTypesBFinder.isFullCache());
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), EvoType2DatedReadOnlyTypesBFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = EvoType2DatedReadOnlyTypesBFinder.businessDate().eq(businessDate);
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.processingDate().eq(processingDate));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkBigDecimalAttribute().eq(currentData.getPkBigDecimalAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkBooleanAttribute().eq(currentData.isPkBooleanAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkByteAttribute().eq(currentData.getPkByteAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkCharAttribute().eq(currentData.getPkCharAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkDateAttribute().eq(currentData.getPkDateAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkDoubleAttribute().eq(currentData.getPkDoubleAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkFloatAttribute().eq(currentData.getPkFloatAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkIntAttribute().eq(currentData.getPkIntAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkLongAttribute().eq(currentData.getPkLongAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkShortAttribute().eq(currentData.getPkShortAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkStringAttribute().eq(currentData.getPkStringAttribute()));
+			op = op.and(EvoType2DatedReadOnlyTypesBFinder.pkTimestampAttribute().eq(currentData.getPkTimestampAttribute()));
+			return EvoType2DatedReadOnlyTypesBFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		EvoType2DatedReadOnlyTypesBData localData = (EvoType2DatedReadOnlyTypesBData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	public void resetEmbeddedValueObjects()
+	{
+		EvoType2DatedReadOnlyTypesBData data = ((EvoType2DatedReadOnlyTypesBData) this.zGetCurrentDataWithCheck());
+		data.setPk(null);
+		data.setRootEvo(null);
+		data.setRootEvoNestedEvo(null);
+		data.setRootEvoNestedEvoLeafEvo(null);
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return EvoType2DatedReadOnlyTypesBFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,681 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class EvoType2DatedTxnTypesAListAbstract extends DelegatingList<EvoType2DatedTxnTypesA> implements MithraDatedTransactionalList<EvoType2DatedTxnTypesA>
+{
+	public EvoType2DatedTxnTypesAListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public EvoType2DatedTxnTypesAListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public EvoType2DatedTxnTypesAListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public EvoType2DatedTxnTypesAListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public EvoType2DatedTxnTypesA[] elements()
+	{
+		EvoType2DatedTxnTypesA[] result = new EvoType2DatedTxnTypesA[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public EvoType2DatedTxnTypesAList intersection(EvoType2DatedTxnTypesAList another)
+	{
+		return (EvoType2DatedTxnTypesAList)super.intersection(another);
+	}
+
+	public EvoType2DatedTxnTypesA getEvoType2DatedTxnTypesAAt(int index)
+	{
+		return (EvoType2DatedTxnTypesA)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public OrderList getRootEvoOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType2DatedTxnTypesAFinder.rootEvoOrder());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public OrderList getRootEvoOrderWithDates(Timestamp date)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType2DatedTxnTypesAFinder.rootEvoOrderWithDate(date));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatus()
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoOrderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoOrderStatusWithStatus(status));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EvoType2DatedTxnTypesAFinder.getMithraObjectPortal();
+	}
+
+	public EvoType2DatedTxnTypesAList getNonPersistentCopy()
+	{
+		EvoType2DatedTxnTypesAList result = new EvoType2DatedTxnTypesAList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public EvoType2DatedTxnTypesAList asAdhoc()
+	{
+		return (EvoType2DatedTxnTypesAList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<EvoType2DatedTxnTypesA> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public EvoType2DatedTxnTypesAList merge(MithraTransactionalList<EvoType2DatedTxnTypesA> incoming, TopLevelMergeOptions<EvoType2DatedTxnTypesA> mergeOptions)
+	{
+		return (EvoType2DatedTxnTypesAList) super.merge(incoming, mergeOptions);
+	}
+
+	public EvoType2DatedTxnTypesAList getDetachedCopy()
+	{
+		EvoType2DatedTxnTypesAList result = new EvoType2DatedTxnTypesAList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesAFinder.booleanAttribute(), newValue);
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesAFinder.byteAttribute(), newValue);
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesAFinder.charAttribute(), newValue);
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesAFinder.dateAttribute(), newValue);
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesAFinder.doubleAttribute(), newValue);
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesAFinder.floatAttribute(), newValue);
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesAFinder.intAttribute(), newValue);
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesAFinder.longAttribute(), newValue);
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesAFinder.shortAttribute(), newValue);
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesAFinder.stringAttribute(), newValue);
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesAFinder.timestampAttribute(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesAFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesAFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesAFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesAFinder.processingDateTo(), newValue);
+	}
+
+	public void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesAFinder.pkBooleanAttribute(), newValue);
+	}
+
+	public void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesAFinder.pkByteAttribute(), newValue);
+	}
+
+	public void setPkCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesAFinder.pkCharAttribute(), newValue);
+	}
+
+	public void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesAFinder.pkDateAttribute(), newValue);
+	}
+
+	public void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesAFinder.pkDoubleAttribute(), newValue);
+	}
+
+	public void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesAFinder.pkFloatAttribute(), newValue);
+	}
+
+	public void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesAFinder.pkIntAttribute(), newValue);
+	}
+
+	public void setPkLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesAFinder.pkLongAttribute(), newValue);
+	}
+
+	public void setPkShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesAFinder.pkShortAttribute(), newValue);
+	}
+
+	public void setPkStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesAFinder.pkStringAttribute(), newValue);
+	}
+
+	public void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesAFinder.pkTimestampAttribute(), newValue);
+	}
+
+	public void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2DatedTxnTypesAFinder.pkBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesAFinder.rootEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesAFinder.rootEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesAFinder.rootEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesAFinder.rootEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesAFinder.rootEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesAFinder.rootEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesAFinder.rootEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesAFinder.rootEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesAFinder.rootEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesAFinder.rootEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesAFinder.rootEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2DatedTxnTypesAFinder.rootEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void copyPk(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType2DatedTxnTypesAFinder.pk(), newValue);
+	}
+
+	public void copyRootEvo(EvoTypesRoot newValue)
+	{
+		zSetEvoValue(EvoType2DatedTxnTypesAFinder.rootEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvo(EvoTypesNested newValue)
+	{
+		zSetEvoValue(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvo(), newValue);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.booleanAttribute());
+	}
+
+	public void setByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.byteAttribute());
+	}
+
+	public void setCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.charAttribute());
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.doubleAttribute());
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.floatAttribute());
+	}
+
+	public void setIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.intAttribute());
+	}
+
+	public void setLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.longAttribute());
+	}
+
+	public void setShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.shortAttribute());
+	}
+
+	public void setRootEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoBooleanAttribute());
+	}
+
+	public void setRootEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoByteAttribute());
+	}
+
+	public void setRootEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoCharAttribute());
+	}
+
+	public void setRootEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoDoubleAttribute());
+	}
+
+	public void setRootEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoFloatAttribute());
+	}
+
+	public void setRootEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoIntAttribute());
+	}
+
+	public void setRootEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoLongAttribute());
+	}
+
+	public void setRootEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,280 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/superclass/Abstract.jsp
+public abstract class EvoType2DatedTxnTypesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl
+{
+	//add getters for all attributes
+	public abstract boolean isBooleanAttributeNull();
+	public abstract boolean isBooleanAttribute();
+	public abstract void setBooleanAttribute(boolean booleanAttribute);
+	public abstract void setBooleanAttributeNull();
+	public abstract boolean isByteAttributeNull();
+	public abstract byte getByteAttribute();
+	public abstract void setByteAttribute(byte byteAttribute);
+	public abstract void setByteAttributeNull();
+	public abstract boolean isCharAttributeNull();
+	public abstract char getCharAttribute();
+	public abstract void setCharAttribute(char charAttribute);
+	public abstract void setCharAttributeNull();
+	public abstract boolean isDateAttributeNull();
+	public abstract Date getDateAttribute();
+	public abstract void setDateAttribute(Date dateAttribute);
+	public abstract boolean isDoubleAttributeNull();
+	public abstract double getDoubleAttribute();
+	public abstract void setDoubleAttribute(double doubleAttribute);
+	public abstract void setDoubleAttributeNull();
+	public abstract boolean isFloatAttributeNull();
+	public abstract float getFloatAttribute();
+	public abstract void setFloatAttribute(float floatAttribute);
+	public abstract void setFloatAttributeNull();
+	public abstract boolean isIntAttributeNull();
+	public abstract int getIntAttribute();
+	public abstract void setIntAttribute(int intAttribute);
+	public abstract void setIntAttributeNull();
+	public abstract boolean isLongAttributeNull();
+	public abstract long getLongAttribute();
+	public abstract void setLongAttribute(long longAttribute);
+	public abstract void setLongAttributeNull();
+	public abstract boolean isShortAttributeNull();
+	public abstract short getShortAttribute();
+	public abstract void setShortAttribute(short shortAttribute);
+	public abstract void setShortAttributeNull();
+	public abstract boolean isStringAttributeNull();
+	public abstract String getStringAttribute();
+	public abstract void setStringAttribute(String stringAttribute);
+	public abstract boolean isTimestampAttributeNull();
+	public abstract Timestamp getTimestampAttribute();
+	public abstract void setTimestampAttribute(Timestamp timestampAttribute);
+	public abstract boolean isBusinessDateFromNull();
+	public abstract Timestamp getBusinessDateFrom();
+	public abstract void setBusinessDateFrom(Timestamp businessDateFrom);
+	public abstract boolean isBusinessDateToNull();
+	public abstract Timestamp getBusinessDateTo();
+	public abstract void setBusinessDateTo(Timestamp businessDateTo);
+	public abstract boolean isProcessingDateFromNull();
+	public abstract Timestamp getProcessingDateFrom();
+	public abstract void setProcessingDateFrom(Timestamp processingDateFrom);
+	public abstract boolean isProcessingDateToNull();
+	public abstract Timestamp getProcessingDateTo();
+	public abstract void setProcessingDateTo(Timestamp processingDateTo);
+	protected abstract boolean isPkBooleanAttributeNull();
+	protected abstract boolean isPkBooleanAttribute();
+	protected abstract void setPkBooleanAttribute(boolean pkBooleanAttribute);
+	protected abstract boolean isPkByteAttributeNull();
+	protected abstract byte getPkByteAttribute();
+	protected abstract void setPkByteAttribute(byte pkByteAttribute);
+	protected abstract boolean isPkCharAttributeNull();
+	protected abstract char getPkCharAttribute();
+	protected abstract void setPkCharAttribute(char pkCharAttribute);
+	protected abstract boolean isPkDateAttributeNull();
+	protected abstract Date getPkDateAttribute();
+	protected abstract void setPkDateAttribute(Date pkDateAttribute);
+	protected abstract boolean isPkDoubleAttributeNull();
+	protected abstract double getPkDoubleAttribute();
+	protected abstract void setPkDoubleAttribute(double pkDoubleAttribute);
+	protected abstract boolean isPkFloatAttributeNull();
+	protected abstract float getPkFloatAttribute();
+	protected abstract void setPkFloatAttribute(float pkFloatAttribute);
+	protected abstract boolean isPkIntAttributeNull();
+	protected abstract int getPkIntAttribute();
+	protected abstract void setPkIntAttribute(int pkIntAttribute);
+	protected abstract boolean isPkLongAttributeNull();
+	protected abstract long getPkLongAttribute();
+	protected abstract void setPkLongAttribute(long pkLongAttribute);
+	protected abstract boolean isPkShortAttributeNull();
+	protected abstract short getPkShortAttribute();
+	protected abstract void setPkShortAttribute(short pkShortAttribute);
+	protected abstract boolean isPkStringAttributeNull();
+	protected abstract String getPkStringAttribute();
+	protected abstract void setPkStringAttribute(String pkStringAttribute);
+	protected abstract boolean isPkTimestampAttributeNull();
+	protected abstract Timestamp getPkTimestampAttribute();
+	protected abstract void setPkTimestampAttribute(Timestamp pkTimestampAttribute);
+	protected abstract boolean isPkBigDecimalAttributeNull();
+	protected abstract BigDecimal getPkBigDecimalAttribute();
+	protected abstract void setPkBigDecimalAttribute(BigDecimal pkBigDecimalAttribute);
+	protected abstract boolean isRootEvoBooleanAttributeNull();
+	protected abstract boolean isRootEvoBooleanAttribute();
+	protected abstract void setRootEvoBooleanAttribute(boolean rootEvoBooleanAttribute);
+	protected abstract void setRootEvoBooleanAttributeNull();
+	protected abstract boolean isRootEvoByteAttributeNull();
+	protected abstract byte getRootEvoByteAttribute();
+	protected abstract void setRootEvoByteAttribute(byte rootEvoByteAttribute);
+	protected abstract void setRootEvoByteAttributeNull();
+	protected abstract boolean isRootEvoCharAttributeNull();
+	protected abstract char getRootEvoCharAttribute();
+	protected abstract void setRootEvoCharAttribute(char rootEvoCharAttribute);
+	protected abstract void setRootEvoCharAttributeNull();
+	protected abstract boolean isRootEvoDateAttributeNull();
+	protected abstract Date getRootEvoDateAttribute();
+	protected abstract void setRootEvoDateAttribute(Date rootEvoDateAttribute);
+	protected abstract boolean isRootEvoDoubleAttributeNull();
+	protected abstract double getRootEvoDoubleAttribute();
+	protected abstract void setRootEvoDoubleAttribute(double rootEvoDoubleAttribute);
+	protected abstract void setRootEvoDoubleAttributeNull();
+	protected abstract boolean isRootEvoFloatAttributeNull();
+	protected abstract float getRootEvoFloatAttribute();
+	protected abstract void setRootEvoFloatAttribute(float rootEvoFloatAttribute);
+	protected abstract void setRootEvoFloatAttributeNull();
+	protected abstract boolean isRootEvoIntAttributeNull();
+	protected abstract int getRootEvoIntAttribute();
+	protected abstract void setRootEvoIntAttribute(int rootEvoIntAttribute);
+	protected abstract void setRootEvoIntAttributeNull();
+	protected abstract boolean isRootEvoLongAttributeNull();
+	protected abstract long getRootEvoLongAttribute();
+	protected abstract void setRootEvoLongAttribute(long rootEvoLongAttribute);
+	protected abstract void setRootEvoLongAttributeNull();
+	protected abstract boolean isRootEvoShortAttributeNull();
+	protected abstract short getRootEvoShortAttribute();
+	protected abstract void setRootEvoShortAttribute(short rootEvoShortAttribute);
+	protected abstract void setRootEvoShortAttributeNull();
+	protected abstract boolean isRootEvoStringAttributeNull();
+	protected abstract String getRootEvoStringAttribute();
+	protected abstract void setRootEvoStringAttribute(String rootEvoStringAttribute);
+	protected abstract boolean isRootEvoTimestampAttributeNull();
+	protected abstract Timestamp getRootEvoTimestampAttribute();
+	protected abstract void setRootEvoTimestampAttribute(Timestamp rootEvoTimestampAttribute);
+	protected abstract boolean isRootEvoBigDecimalAttributeNull();
+	protected abstract BigDecimal getRootEvoBigDecimalAttribute();
+	protected abstract void setRootEvoBigDecimalAttribute(BigDecimal rootEvoBigDecimalAttribute);
+	protected abstract boolean isRootEvoNestedEvoBooleanAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoBooleanAttribute();
+	protected abstract void setRootEvoNestedEvoBooleanAttribute(boolean rootEvoNestedEvoBooleanAttribute);
+	protected abstract void setRootEvoNestedEvoBooleanAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoByteAttributeNull();
+	protected abstract byte getRootEvoNestedEvoByteAttribute();
+	protected abstract void setRootEvoNestedEvoByteAttribute(byte rootEvoNestedEvoByteAttribute);
+	protected abstract void setRootEvoNestedEvoByteAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoCharAttributeNull();
+	protected abstract char getRootEvoNestedEvoCharAttribute();
+	protected abstract void setRootEvoNestedEvoCharAttribute(char rootEvoNestedEvoCharAttribute);
+	protected abstract void setRootEvoNestedEvoCharAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoDateAttributeNull();
+	protected abstract Date getRootEvoNestedEvoDateAttribute();
+	protected abstract void setRootEvoNestedEvoDateAttribute(Date rootEvoNestedEvoDateAttribute);
+	protected abstract boolean isRootEvoNestedEvoDoubleAttributeNull();
+	protected abstract double getRootEvoNestedEvoDoubleAttribute();
+	protected abstract void setRootEvoNestedEvoDoubleAttribute(double rootEvoNestedEvoDoubleAttribute);
+	protected abstract void setRootEvoNestedEvoDoubleAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoFloatAttributeNull();
+	protected abstract float getRootEvoNestedEvoFloatAttribute();
+	protected abstract void setRootEvoNestedEvoFloatAttribute(float rootEvoNestedEvoFloatAttribute);
+	protected abstract void setRootEvoNestedEvoFloatAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoIntAttributeNull();
+	protected abstract int getRootEvoNestedEvoIntAttribute();
+	protected abstract void setRootEvoNestedEvoIntAttribute(int rootEvoNestedEvoIntAttribute);
+	protected abstract void setRootEvoNestedEvoIntAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLongAttributeNull();
+	protected abstract long getRootEvoNestedEvoLongAttribute();
+	protected abstract void setRootEvoNestedEvoLongAttribute(long rootEvoNestedEvoLongAttribute);
+	protected abstract void setRootEvoNestedEvoLongAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoShortAttributeNull();
+	protected abstract short getRootEvoNestedEvoShortAttribute();
+	protected abstract void setRootEvoNestedEvoShortAttribute(short rootEvoNestedEvoShortAttribute);
+	protected abstract void setRootEvoNestedEvoShortAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoStringAttributeNull();
+	protected abstract String getRootEvoNestedEvoStringAttribute();
+	protected abstract void setRootEvoNestedEvoStringAttribute(String rootEvoNestedEvoStringAttribute);
+	protected abstract boolean isRootEvoNestedEvoTimestampAttributeNull();
+	protected abstract Timestamp getRootEvoNestedEvoTimestampAttribute();
+	protected abstract void setRootEvoNestedEvoTimestampAttribute(Timestamp rootEvoNestedEvoTimestampAttribute);
+	protected abstract boolean isRootEvoNestedEvoBigDecimalAttributeNull();
+	protected abstract BigDecimal getRootEvoNestedEvoBigDecimalAttribute();
+	protected abstract void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal rootEvoNestedEvoBigDecimalAttribute);
+	protected abstract boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLeafEvoBooleanAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean rootEvoNestedEvoLeafEvoBooleanAttribute);
+	protected abstract void setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLeafEvoByteAttributeNull();
+	protected abstract byte getRootEvoNestedEvoLeafEvoByteAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoByteAttribute(byte rootEvoNestedEvoLeafEvoByteAttribute);
+	protected abstract void setRootEvoNestedEvoLeafEvoByteAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLeafEvoCharAttributeNull();
+	protected abstract char getRootEvoNestedEvoLeafEvoCharAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoCharAttribute(char rootEvoNestedEvoLeafEvoCharAttribute);
+	protected abstract void setRootEvoNestedEvoLeafEvoCharAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLeafEvoDateAttributeNull();
+	protected abstract Date getRootEvoNestedEvoLeafEvoDateAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoDateAttribute(Date rootEvoNestedEvoLeafEvoDateAttribute);
+	protected abstract boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+	protected abstract double getRootEvoNestedEvoLeafEvoDoubleAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoDoubleAttribute(double rootEvoNestedEvoLeafEvoDoubleAttribute);
+	protected abstract void setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+	protected abstract float getRootEvoNestedEvoLeafEvoFloatAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoFloatAttribute(float rootEvoNestedEvoLeafEvoFloatAttribute);
+	protected abstract void setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLeafEvoIntAttributeNull();
+	protected abstract int getRootEvoNestedEvoLeafEvoIntAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoIntAttribute(int rootEvoNestedEvoLeafEvoIntAttribute);
+	protected abstract void setRootEvoNestedEvoLeafEvoIntAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLeafEvoLongAttributeNull();
+	protected abstract long getRootEvoNestedEvoLeafEvoLongAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoLongAttribute(long rootEvoNestedEvoLeafEvoLongAttribute);
+	protected abstract void setRootEvoNestedEvoLeafEvoLongAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLeafEvoShortAttributeNull();
+	protected abstract short getRootEvoNestedEvoLeafEvoShortAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoShortAttribute(short rootEvoNestedEvoLeafEvoShortAttribute);
+	protected abstract void setRootEvoNestedEvoLeafEvoShortAttributeNull();
+	protected abstract boolean isRootEvoNestedEvoLeafEvoStringAttributeNull();
+	protected abstract String getRootEvoNestedEvoLeafEvoStringAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoStringAttribute(String rootEvoNestedEvoLeafEvoStringAttribute);
+	protected abstract boolean isRootEvoNestedEvoLeafEvoTimestampAttributeNull();
+	protected abstract Timestamp getRootEvoNestedEvoLeafEvoTimestampAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute);
+	protected abstract boolean isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull();
+	protected abstract BigDecimal getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	protected abstract void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+	public abstract EvoTypesLeaf getPk();
+	public abstract void copyPk(EvoTypesLeaf pk);
+	public abstract EvoTypesRoot getRootEvo();
+	public abstract void copyRootEvo(EvoTypesRoot rootEvo);
+	protected abstract EvoTypesNested getRootEvoNestedEvo();
+	protected abstract void copyRootEvoNestedEvo(EvoTypesNested nestedEvo);
+	protected abstract EvoTypesLeaf getRootEvoNestedEvoLeafEvo();
+	protected abstract void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf leafEvo);
+	public abstract Order getRootEvoOrder();
+	public abstract Order getRootEvoOrderWithDate(Timestamp date);
+	public abstract OrderStatus getRootEvoNestedEvoOrderStatus();
+	public abstract OrderStatus getRootEvoNestedEvoOrderStatusWithStatus(int status);
+	public abstract Timestamp getBusinessDate();
+	public abstract Timestamp getProcessingDate();
+}
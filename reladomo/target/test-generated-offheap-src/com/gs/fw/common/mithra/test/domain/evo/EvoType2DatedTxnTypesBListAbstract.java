@@ -0,0 +1,681 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class EvoType2DatedTxnTypesBListAbstract extends DelegatingList<EvoType2DatedTxnTypesB> implements MithraDatedTransactionalList<EvoType2DatedTxnTypesB>
+{
+	public EvoType2DatedTxnTypesBListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public EvoType2DatedTxnTypesBListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public EvoType2DatedTxnTypesBListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public EvoType2DatedTxnTypesBListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public EvoType2DatedTxnTypesB[] elements()
+	{
+		EvoType2DatedTxnTypesB[] result = new EvoType2DatedTxnTypesB[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public EvoType2DatedTxnTypesBList intersection(EvoType2DatedTxnTypesBList another)
+	{
+		return (EvoType2DatedTxnTypesBList)super.intersection(another);
+	}
+
+	public EvoType2DatedTxnTypesB getEvoType2DatedTxnTypesBAt(int index)
+	{
+		return (EvoType2DatedTxnTypesB)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public OrderList getRootEvoOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType2DatedTxnTypesBFinder.rootEvoOrder());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public OrderList getRootEvoOrderWithDates(Timestamp date)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType2DatedTxnTypesBFinder.rootEvoOrderWithDate(date));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatus()
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoOrderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoOrderStatusWithStatus(status));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EvoType2DatedTxnTypesBFinder.getMithraObjectPortal();
+	}
+
+	public EvoType2DatedTxnTypesBList getNonPersistentCopy()
+	{
+		EvoType2DatedTxnTypesBList result = new EvoType2DatedTxnTypesBList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public EvoType2DatedTxnTypesBList asAdhoc()
+	{
+		return (EvoType2DatedTxnTypesBList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<EvoType2DatedTxnTypesB> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public EvoType2DatedTxnTypesBList merge(MithraTransactionalList<EvoType2DatedTxnTypesB> incoming, TopLevelMergeOptions<EvoType2DatedTxnTypesB> mergeOptions)
+	{
+		return (EvoType2DatedTxnTypesBList) super.merge(incoming, mergeOptions);
+	}
+
+	public EvoType2DatedTxnTypesBList getDetachedCopy()
+	{
+		EvoType2DatedTxnTypesBList result = new EvoType2DatedTxnTypesBList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesBFinder.booleanAttribute(), newValue);
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesBFinder.byteAttribute(), newValue);
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesBFinder.charAttribute(), newValue);
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesBFinder.dateAttribute(), newValue);
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesBFinder.doubleAttribute(), newValue);
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesBFinder.floatAttribute(), newValue);
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesBFinder.intAttribute(), newValue);
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesBFinder.longAttribute(), newValue);
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesBFinder.shortAttribute(), newValue);
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesBFinder.stringAttribute(), newValue);
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesBFinder.timestampAttribute(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesBFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesBFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesBFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesBFinder.processingDateTo(), newValue);
+	}
+
+	public void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesBFinder.pkBooleanAttribute(), newValue);
+	}
+
+	public void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesBFinder.pkByteAttribute(), newValue);
+	}
+
+	public void setPkCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesBFinder.pkCharAttribute(), newValue);
+	}
+
+	public void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesBFinder.pkDateAttribute(), newValue);
+	}
+
+	public void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesBFinder.pkDoubleAttribute(), newValue);
+	}
+
+	public void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesBFinder.pkFloatAttribute(), newValue);
+	}
+
+	public void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesBFinder.pkIntAttribute(), newValue);
+	}
+
+	public void setPkLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesBFinder.pkLongAttribute(), newValue);
+	}
+
+	public void setPkShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesBFinder.pkShortAttribute(), newValue);
+	}
+
+	public void setPkStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesBFinder.pkStringAttribute(), newValue);
+	}
+
+	public void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesBFinder.pkTimestampAttribute(), newValue);
+	}
+
+	public void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2DatedTxnTypesBFinder.pkBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesBFinder.rootEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesBFinder.rootEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesBFinder.rootEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesBFinder.rootEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesBFinder.rootEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesBFinder.rootEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesBFinder.rootEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesBFinder.rootEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesBFinder.rootEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesBFinder.rootEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesBFinder.rootEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2DatedTxnTypesBFinder.rootEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void copyPk(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType2DatedTxnTypesBFinder.pk(), newValue);
+	}
+
+	public void copyRootEvo(EvoTypesRoot newValue)
+	{
+		zSetEvoValue(EvoType2DatedTxnTypesBFinder.rootEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvo(EvoTypesNested newValue)
+	{
+		zSetEvoValue(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvo(), newValue);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.booleanAttribute());
+	}
+
+	public void setByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.byteAttribute());
+	}
+
+	public void setCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.charAttribute());
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.doubleAttribute());
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.floatAttribute());
+	}
+
+	public void setIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.intAttribute());
+	}
+
+	public void setLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.longAttribute());
+	}
+
+	public void setShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.shortAttribute());
+	}
+
+	public void setRootEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoBooleanAttribute());
+	}
+
+	public void setRootEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoByteAttribute());
+	}
+
+	public void setRootEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoCharAttribute());
+	}
+
+	public void setRootEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoDoubleAttribute());
+	}
+
+	public void setRootEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoFloatAttribute());
+	}
+
+	public void setRootEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoIntAttribute());
+	}
+
+	public void setRootEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoLongAttribute());
+	}
+
+	public void setRootEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2DatedTxnTypesBFinder.rootEvoNestedEvoLeafEvoShortAttribute());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,3711 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class EvoType2TxnTypesAAbstract extends com.gs.fw.common.mithra.test.domain.evo.EvoType2TxnTypes implements MithraTransactionalObject, Serializable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(EvoType2TxnTypesA.class.getName());
+	private static final RelationshipHashStrategy forrootEvoOrder = new RootEvoOrderRhs();
+	private static final RelationshipHashStrategy forrootEvoNestedEvoOrderStatus = new RootEvoNestedEvoOrderStatusRhs();
+	private static final class RootEvoOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			EvoType2TxnTypesAData _castedSrcData = (EvoType2TxnTypesAData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isRootEvoIntAttributeNull() && _castedSrcData.getRootEvoIntAttribute() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			EvoType2TxnTypesAData _castedSrcData = (EvoType2TxnTypesAData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRootEvoIntAttribute(), _castedSrcData.isRootEvoIntAttributeNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class RootEvoNestedEvoOrderStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			EvoType2TxnTypesAData _castedSrcData = (EvoType2TxnTypesAData) _srcData;
+			OrderStatusData _castedTargetData = (OrderStatusData) _targetData;
+			if (!_castedSrcData.isRootEvoNestedEvoIntAttributeNull() && _castedSrcData.getRootEvoNestedEvoIntAttribute() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			EvoType2TxnTypesAData _castedSrcData = (EvoType2TxnTypesAData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRootEvoNestedEvoIntAttribute(), _castedSrcData.isRootEvoNestedEvoIntAttributeNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public EvoType2TxnTypesAAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public EvoType2TxnTypesA getDetachedCopy() throws MithraBusinessException
+	{
+		return (EvoType2TxnTypesA) super.getDetachedCopy();
+	}
+
+	public EvoType2TxnTypesA getNonPersistentCopy() throws MithraBusinessException
+	{
+		EvoType2TxnTypesA result = (EvoType2TxnTypesA) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public EvoType2TxnTypesA copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (EvoType2TxnTypesA) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public EvoType2TxnTypesA zFindOriginal()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.currentData;
+		Operation op;
+		op = EvoType2TxnTypesAFinder.pkBooleanAttribute().eq(data.isPkBooleanAttribute());
+		op = op.and(EvoType2TxnTypesAFinder.pkByteAttribute().eq(data.getPkByteAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkCharAttribute().eq(data.getPkCharAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkDateAttribute().eq(data.getPkDateAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkDoubleAttribute().eq(data.getPkDoubleAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkFloatAttribute().eq(data.getPkFloatAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkIntAttribute().eq(data.getPkIntAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkLongAttribute().eq(data.getPkLongAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkShortAttribute().eq(data.getPkShortAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkStringAttribute().eq(data.getPkStringAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkTimestampAttribute().eq(data.getPkTimestampAttribute()));
+		op = op.and(EvoType2TxnTypesAFinder.pkBigDecimalAttribute().eq(data.getPkBigDecimalAttribute()));
+		return EvoType2TxnTypesAFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new EvoType2TxnTypesAData();
+	}
+
+	protected void zSetFromEvoType2TxnTypesAData( EvoType2TxnTypesAData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromEvoType2TxnTypesAData( EvoType2TxnTypesAData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isBooleanAttributeNull();
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("booleanAttribute", data);
+		return data.isBooleanAttribute();
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.booleanAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isByteAttributeNull();
+	}
+
+	public byte getByteAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isByteAttributeNull()) MithraNullPrimitiveException.throwNew("byteAttribute", data);
+		return data.getByteAttribute();
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.byteAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isCharAttributeNull();
+	}
+
+	public char getCharAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isCharAttributeNull()) MithraNullPrimitiveException.throwNew("charAttribute", data);
+		return data.getCharAttribute();
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.charAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isDateAttributeNull();
+	}
+
+	public Date getDateAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getDateAttribute();
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.dateAttribute(), newValue, false, false );
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isDoubleAttributeNull();
+	}
+
+	public double getDoubleAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("doubleAttribute", data);
+		return data.getDoubleAttribute();
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.doubleAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isFloatAttributeNull();
+	}
+
+	public float getFloatAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isFloatAttributeNull()) MithraNullPrimitiveException.throwNew("floatAttribute", data);
+		return data.getFloatAttribute();
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.floatAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isIntAttributeNull();
+	}
+
+	public int getIntAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isIntAttributeNull()) MithraNullPrimitiveException.throwNew("intAttribute", data);
+		return data.getIntAttribute();
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.intAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isLongAttributeNull();
+	}
+
+	public long getLongAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isLongAttributeNull()) MithraNullPrimitiveException.throwNew("longAttribute", data);
+		return data.getLongAttribute();
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.longAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isPkBigDecimalAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getPkBigDecimalAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkBigDecimalAttribute();
+	}
+
+	protected void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2TxnTypesAFinder.pkBigDecimalAttribute(), newValue, true, false );
+	}
+
+	protected boolean isPkBooleanAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkBooleanAttributeNull();
+	}
+
+	protected boolean isPkBooleanAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.isPkBooleanAttribute();
+	}
+
+	protected void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.pkBooleanAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkByteAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkByteAttributeNull();
+	}
+
+	protected byte getPkByteAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkByteAttribute();
+	}
+
+	protected void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.pkByteAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkCharAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkCharAttributeNull();
+	}
+
+	protected char getPkCharAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkCharAttribute();
+	}
+
+	protected void setPkCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.pkCharAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkDateAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkDateAttributeNull();
+	}
+
+	protected Date getPkDateAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkDateAttribute();
+	}
+
+	protected void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.pkDateAttribute(), newValue, true, false );
+	}
+
+	protected boolean isPkDoubleAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkDoubleAttributeNull();
+	}
+
+	protected double getPkDoubleAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkDoubleAttribute();
+	}
+
+	protected void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.pkDoubleAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkFloatAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkFloatAttributeNull();
+	}
+
+	protected float getPkFloatAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkFloatAttribute();
+	}
+
+	protected void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.pkFloatAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkIntAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkIntAttributeNull();
+	}
+
+	protected int getPkIntAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkIntAttribute();
+	}
+
+	protected void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.pkIntAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkLongAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkLongAttributeNull();
+	}
+
+	protected long getPkLongAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkLongAttribute();
+	}
+
+	protected void setPkLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.pkLongAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkShortAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkShortAttributeNull();
+	}
+
+	protected short getPkShortAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkShortAttribute();
+	}
+
+	protected void setPkShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.pkShortAttribute(), newValue, true, false ,false);
+	}
+
+	protected boolean isPkStringAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkStringAttributeNull();
+	}
+
+	protected String getPkStringAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkStringAttribute();
+	}
+
+	protected void setPkStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(EvoType2TxnTypesAFinder.pkStringAttribute(), newValue, true, false );
+	}
+
+	protected boolean isPkTimestampAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isPkTimestampAttributeNull();
+	}
+
+	protected Timestamp getPkTimestampAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getPkTimestampAttribute();
+	}
+
+	protected void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.pkTimestampAttribute(), newValue, true, false );
+	}
+
+	protected boolean isRootEvoBigDecimalAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getRootEvoBigDecimalAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2TxnTypesAFinder.rootEvoBigDecimalAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoBooleanAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoBooleanAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoBooleanAttribute", data);
+		return data.isRootEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.rootEvoBooleanAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoByteAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoByteAttributeNull();
+	}
+
+	protected byte getRootEvoByteAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoByteAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoByteAttribute", data);
+		return data.getRootEvoByteAttribute();
+	}
+
+	protected void setRootEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.rootEvoByteAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoCharAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoCharAttributeNull();
+	}
+
+	protected char getRootEvoCharAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoCharAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoCharAttribute", data);
+		return data.getRootEvoCharAttribute();
+	}
+
+	protected void setRootEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.rootEvoCharAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoDateAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoDateAttributeNull();
+	}
+
+	protected Date getRootEvoDateAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoDateAttribute();
+	}
+
+	protected void setRootEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.rootEvoDateAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoDoubleAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoDoubleAttributeNull();
+	}
+
+	protected double getRootEvoDoubleAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoDoubleAttribute", data);
+		return data.getRootEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.rootEvoDoubleAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoFloatAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoFloatAttributeNull();
+	}
+
+	protected float getRootEvoFloatAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoFloatAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoFloatAttribute", data);
+		return data.getRootEvoFloatAttribute();
+	}
+
+	protected void setRootEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.rootEvoFloatAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoIntAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoIntAttributeNull();
+	}
+
+	protected int getRootEvoIntAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoIntAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoIntAttribute", data);
+		return data.getRootEvoIntAttribute();
+	}
+
+	protected void setRootEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.rootEvoIntAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoLongAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoLongAttributeNull();
+	}
+
+	protected long getRootEvoLongAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoLongAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoLongAttribute", data);
+		return data.getRootEvoLongAttribute();
+	}
+
+	protected void setRootEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.rootEvoLongAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoBigDecimalAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getRootEvoNestedEvoBigDecimalAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoNestedEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2TxnTypesAFinder.rootEvoNestedEvoBigDecimalAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoBooleanAttribute", data);
+		return data.isRootEvoNestedEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.rootEvoNestedEvoBooleanAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoByteAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoByteAttributeNull();
+	}
+
+	protected byte getRootEvoNestedEvoByteAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoByteAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoByteAttribute", data);
+		return data.getRootEvoNestedEvoByteAttribute();
+	}
+
+	protected void setRootEvoNestedEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.rootEvoNestedEvoByteAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoCharAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoCharAttributeNull();
+	}
+
+	protected char getRootEvoNestedEvoCharAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoCharAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoCharAttribute", data);
+		return data.getRootEvoNestedEvoCharAttribute();
+	}
+
+	protected void setRootEvoNestedEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.rootEvoNestedEvoCharAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoDateAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoDateAttributeNull();
+	}
+
+	protected Date getRootEvoNestedEvoDateAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoNestedEvoDateAttribute();
+	}
+
+	protected void setRootEvoNestedEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.rootEvoNestedEvoDateAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoNestedEvoDoubleAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoDoubleAttributeNull();
+	}
+
+	protected double getRootEvoNestedEvoDoubleAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoDoubleAttribute", data);
+		return data.getRootEvoNestedEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.rootEvoNestedEvoDoubleAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoFloatAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoFloatAttributeNull();
+	}
+
+	protected float getRootEvoNestedEvoFloatAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoFloatAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoFloatAttribute", data);
+		return data.getRootEvoNestedEvoFloatAttribute();
+	}
+
+	protected void setRootEvoNestedEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.rootEvoNestedEvoFloatAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoIntAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoIntAttributeNull();
+	}
+
+	protected int getRootEvoNestedEvoIntAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoIntAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoIntAttribute", data);
+		return data.getRootEvoNestedEvoIntAttribute();
+	}
+
+	protected void setRootEvoNestedEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.rootEvoNestedEvoIntAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull();
+	}
+
+	protected BigDecimal getRootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoBooleanAttribute", data);
+		return data.isRootEvoNestedEvoLeafEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoByteAttributeNull();
+	}
+
+	protected byte getRootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoByteAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoByteAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoCharAttributeNull();
+	}
+
+	protected char getRootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoCharAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoCharAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDateAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoDateAttributeNull();
+	}
+
+	protected Date getRootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoNestedEvoLeafEvoDateAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDateAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+	}
+
+	protected double getRootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoDoubleAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+	}
+
+	protected float getRootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoFloatAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoFloatAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoIntAttributeNull();
+	}
+
+	protected int getRootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoIntAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoIntAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoLongAttributeNull();
+	}
+
+	protected long getRootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoLongAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoLongAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoShortAttributeNull();
+	}
+
+	protected short getRootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoShortAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoShortAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoStringAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoStringAttributeNull();
+	}
+
+	protected String getRootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoNestedEvoLeafEvoStringAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoStringAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoTimestampAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLeafEvoTimestampAttributeNull();
+	}
+
+	protected Timestamp getRootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoNestedEvoLeafEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoNestedEvoLongAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoLongAttributeNull();
+	}
+
+	protected long getRootEvoNestedEvoLongAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLongAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLongAttribute", data);
+		return data.getRootEvoNestedEvoLongAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.rootEvoNestedEvoLongAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoShortAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoShortAttributeNull();
+	}
+
+	protected short getRootEvoNestedEvoShortAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoShortAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoShortAttribute", data);
+		return data.getRootEvoNestedEvoShortAttribute();
+	}
+
+	protected void setRootEvoNestedEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.rootEvoNestedEvoShortAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoNestedEvoStringAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoStringAttributeNull();
+	}
+
+	protected String getRootEvoNestedEvoStringAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoNestedEvoStringAttribute();
+	}
+
+	protected void setRootEvoNestedEvoStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(EvoType2TxnTypesAFinder.rootEvoNestedEvoStringAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoNestedEvoTimestampAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoNestedEvoTimestampAttributeNull();
+	}
+
+	protected Timestamp getRootEvoNestedEvoTimestampAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoNestedEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoNestedEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.rootEvoNestedEvoTimestampAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoShortAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoShortAttributeNull();
+	}
+
+	protected short getRootEvoShortAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isRootEvoShortAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoShortAttribute", data);
+		return data.getRootEvoShortAttribute();
+	}
+
+	protected void setRootEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.rootEvoShortAttribute(), newValue, false, false ,true);
+	}
+
+	protected boolean isRootEvoStringAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoStringAttributeNull();
+	}
+
+	protected String getRootEvoStringAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoStringAttribute();
+	}
+
+	protected void setRootEvoStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(EvoType2TxnTypesAFinder.rootEvoStringAttribute(), newValue, false, false );
+	}
+
+	protected boolean isRootEvoTimestampAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isRootEvoTimestampAttributeNull();
+	}
+
+	protected Timestamp getRootEvoTimestampAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getRootEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.rootEvoTimestampAttribute(), newValue, false, false );
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isShortAttributeNull();
+	}
+
+	public short getShortAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		if (data.isShortAttributeNull()) MithraNullPrimitiveException.throwNew("shortAttribute", data);
+		return data.getShortAttribute();
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.shortAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isStringAttributeNull();
+	}
+
+	public String getStringAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getStringAttribute();
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'stringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(EvoType2TxnTypesAFinder.stringAttribute(), newValue, false, false );
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return ((EvoType2TxnTypesAData) this.zSynchronizedGetData()).isTimestampAttributeNull();
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		return data.getTimestampAttribute();
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.timestampAttribute(), newValue, false, false );
+	}
+
+	public EvoTypesLeaf getPk()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		EvoTypesLeaf evo = data.getPk();
+		if (evo == null)
+		{
+			evo = EvoTypesLeaf.managedInstance(this, EvoType2TxnTypesAFinder.pk());
+			data.setPk(evo);
+		}
+
+		return evo;
+	}
+
+	public void copyPk(EvoTypesLeaf pk)
+	{
+		boolean pkBooleanAttribute = pk.getBooleanAttribute();
+		boolean isPkBooleanAttributeNull = pk.isBooleanAttributeNull();
+		byte pkByteAttribute = pk.getByteAttribute();
+		boolean isPkByteAttributeNull = pk.isByteAttributeNull();
+		char pkCharAttribute = pk.getCharAttribute();
+		boolean isPkCharAttributeNull = pk.isCharAttributeNull();
+		Date pkDateAttribute = pk.getDateAttribute();
+		double pkDoubleAttribute = pk.getDoubleAttribute();
+		boolean isPkDoubleAttributeNull = pk.isDoubleAttributeNull();
+		zCheckDoubleValue(pkDoubleAttribute);
+		float pkFloatAttribute = pk.getFloatAttribute();
+		boolean isPkFloatAttributeNull = pk.isFloatAttributeNull();
+		zCheckFloatValue(pkFloatAttribute);
+		int pkIntAttribute = pk.getIntAttribute();
+		boolean isPkIntAttributeNull = pk.isIntAttributeNull();
+		long pkLongAttribute = pk.getLongAttribute();
+		boolean isPkLongAttributeNull = pk.isLongAttributeNull();
+		short pkShortAttribute = pk.getShortAttribute();
+		boolean isPkShortAttributeNull = pk.isShortAttributeNull();
+		String pkStringAttribute = pk.getStringAttribute();
+		if (pkStringAttribute != null) pkStringAttribute = pkStringAttribute.trim();
+		if (pkStringAttribute != null && pkStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + pkStringAttribute);
+		Timestamp pkTimestampAttribute = pk.getTimestampAttribute();
+		BigDecimal pkBigDecimalAttribute = pk.getBigDecimalAttribute();
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		try
+		{
+			EvoType2TxnTypesAData data = null;
+			boolean dataChanged = false;
+			AttributeUpdateWrapper updateWrapper;
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.isPkBooleanAttribute() != pkBooleanAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BooleanUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkBooleanAttribute(),
+					data,
+					pkBooleanAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkByteAttribute() != pkByteAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ByteUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkByteAttribute(),
+					data,
+					pkByteAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkCharAttribute() != pkCharAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new CharUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkCharAttribute(),
+					data,
+					pkCharAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getPkDateAttribute() == null)
+			{
+				dataChanged = pkDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkDateAttribute().equals(pkDateAttribute);
+			}
+
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DateUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkDateAttribute(),
+					data,
+					pkDateAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkDoubleAttribute() != pkDoubleAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DoubleUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkDoubleAttribute(),
+					data,
+					pkDoubleAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkFloatAttribute() != pkFloatAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new FloatUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkFloatAttribute(),
+					data,
+					pkFloatAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkIntAttribute() != pkIntAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new IntegerUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkIntAttribute(),
+					data,
+					pkIntAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkLongAttribute() != pkLongAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new LongUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkLongAttribute(),
+					data,
+					pkLongAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			dataChanged = data.getPkShortAttribute() != pkShortAttribute;
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ShortUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkShortAttribute(),
+					data,
+					pkShortAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getPkStringAttribute() == null)
+			{
+				dataChanged = pkStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkStringAttribute().equals(pkStringAttribute);
+			}
+
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new StringUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkStringAttribute(),
+					data,
+					pkStringAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getPkTimestampAttribute() == null)
+			{
+				dataChanged = pkTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkTimestampAttribute().equals(pkTimestampAttribute);
+			}
+
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimestampUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkTimestampAttribute(),
+					data,
+					pkTimestampAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getPkBigDecimalAttribute() == null)
+			{
+				dataChanged = pkBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkBigDecimalAttribute().equals(pkBigDecimalAttribute);
+			}
+
+			if (dataChanged)
+			{
+				if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BigDecimalUpdateWrapper(
+					EvoType2TxnTypesAFinder.pkBigDecimalAttribute(),
+					data,
+					pkBigDecimalAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			this.zResetEmbeddedValueObjects(behavior);
+		}
+
+		finally
+		{
+			behavior.clearTempTransaction(this);
+		}
+	}
+
+	public EvoTypesRoot getRootEvo()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		EvoTypesRoot evo = data.getRootEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesRoot.managedInstance(this, EvoType2TxnTypesAFinder.rootEvo());
+			data.setRootEvo(evo);
+		}
+
+		return evo;
+	}
+
+	public void copyRootEvo(EvoTypesRoot rootEvo)
+	{
+		boolean rootEvoBooleanAttribute = rootEvo.getBooleanAttribute();
+		boolean isRootEvoBooleanAttributeNull = rootEvo.isBooleanAttributeNull();
+		byte rootEvoByteAttribute = rootEvo.getByteAttribute();
+		boolean isRootEvoByteAttributeNull = rootEvo.isByteAttributeNull();
+		char rootEvoCharAttribute = rootEvo.getCharAttribute();
+		boolean isRootEvoCharAttributeNull = rootEvo.isCharAttributeNull();
+		Date rootEvoDateAttribute = rootEvo.getDateAttribute();
+		double rootEvoDoubleAttribute = rootEvo.getDoubleAttribute();
+		boolean isRootEvoDoubleAttributeNull = rootEvo.isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoDoubleAttribute);
+		float rootEvoFloatAttribute = rootEvo.getFloatAttribute();
+		boolean isRootEvoFloatAttributeNull = rootEvo.isFloatAttributeNull();
+		zCheckFloatValue(rootEvoFloatAttribute);
+		int rootEvoIntAttribute = rootEvo.getIntAttribute();
+		boolean isRootEvoIntAttributeNull = rootEvo.isIntAttributeNull();
+		long rootEvoLongAttribute = rootEvo.getLongAttribute();
+		boolean isRootEvoLongAttributeNull = rootEvo.isLongAttributeNull();
+		short rootEvoShortAttribute = rootEvo.getShortAttribute();
+		boolean isRootEvoShortAttributeNull = rootEvo.isShortAttributeNull();
+		String rootEvoStringAttribute = rootEvo.getStringAttribute();
+		if (rootEvoStringAttribute != null) rootEvoStringAttribute = rootEvoStringAttribute.trim();
+		if (rootEvoStringAttribute != null && rootEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoStringAttribute);
+		Timestamp rootEvoTimestampAttribute = rootEvo.getTimestampAttribute();
+		BigDecimal rootEvoBigDecimalAttribute = rootEvo.getBigDecimalAttribute();
+		boolean rootEvoNestedEvoBooleanAttribute = rootEvo.getNestedEvo().getBooleanAttribute();
+		boolean isRootEvoNestedEvoBooleanAttributeNull = rootEvo.getNestedEvo().isBooleanAttributeNull();
+		byte rootEvoNestedEvoByteAttribute = rootEvo.getNestedEvo().getByteAttribute();
+		boolean isRootEvoNestedEvoByteAttributeNull = rootEvo.getNestedEvo().isByteAttributeNull();
+		char rootEvoNestedEvoCharAttribute = rootEvo.getNestedEvo().getCharAttribute();
+		boolean isRootEvoNestedEvoCharAttributeNull = rootEvo.getNestedEvo().isCharAttributeNull();
+		Date rootEvoNestedEvoDateAttribute = rootEvo.getNestedEvo().getDateAttribute();
+		double rootEvoNestedEvoDoubleAttribute = rootEvo.getNestedEvo().getDoubleAttribute();
+		boolean isRootEvoNestedEvoDoubleAttributeNull = rootEvo.getNestedEvo().isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoDoubleAttribute);
+		float rootEvoNestedEvoFloatAttribute = rootEvo.getNestedEvo().getFloatAttribute();
+		boolean isRootEvoNestedEvoFloatAttributeNull = rootEvo.getNestedEvo().isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoFloatAttribute);
+		int rootEvoNestedEvoIntAttribute = rootEvo.getNestedEvo().getIntAttribute();
+		boolean isRootEvoNestedEvoIntAttributeNull = rootEvo.getNestedEvo().isIntAttributeNull();
+		long rootEvoNestedEvoLongAttribute = rootEvo.getNestedEvo().getLongAttribute();
+		boolean isRootEvoNestedEvoLongAttributeNull = rootEvo.getNestedEvo().isLongAttributeNull();
+		short rootEvoNestedEvoShortAttribute = rootEvo.getNestedEvo().getShortAttribute();
+		boolean isRootEvoNestedEvoShortAttributeNull = rootEvo.getNestedEvo().isShortAttributeNull();
+		String rootEvoNestedEvoStringAttribute = rootEvo.getNestedEvo().getStringAttribute();
+		if (rootEvoNestedEvoStringAttribute != null) rootEvoNestedEvoStringAttribute = rootEvoNestedEvoStringAttribute.trim();
+		if (rootEvoNestedEvoStringAttribute != null && rootEvoNestedEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoStringAttribute);
+		Timestamp rootEvoNestedEvoTimestampAttribute = rootEvo.getNestedEvo().getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoBigDecimalAttribute = rootEvo.getNestedEvo().getBigDecimalAttribute();
+		boolean rootEvoNestedEvoLeafEvoBooleanAttribute = rootEvo.getNestedEvo().getLeafEvo().getBooleanAttribute();
+		boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isBooleanAttributeNull();
+		byte rootEvoNestedEvoLeafEvoByteAttribute = rootEvo.getNestedEvo().getLeafEvo().getByteAttribute();
+		boolean isRootEvoNestedEvoLeafEvoByteAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isByteAttributeNull();
+		char rootEvoNestedEvoLeafEvoCharAttribute = rootEvo.getNestedEvo().getLeafEvo().getCharAttribute();
+		boolean isRootEvoNestedEvoLeafEvoCharAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isCharAttributeNull();
+		Date rootEvoNestedEvoLeafEvoDateAttribute = rootEvo.getNestedEvo().getLeafEvo().getDateAttribute();
+		double rootEvoNestedEvoLeafEvoDoubleAttribute = rootEvo.getNestedEvo().getLeafEvo().getDoubleAttribute();
+		boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		float rootEvoNestedEvoLeafEvoFloatAttribute = rootEvo.getNestedEvo().getLeafEvo().getFloatAttribute();
+		boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoLeafEvoFloatAttribute);
+		int rootEvoNestedEvoLeafEvoIntAttribute = rootEvo.getNestedEvo().getLeafEvo().getIntAttribute();
+		boolean isRootEvoNestedEvoLeafEvoIntAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isIntAttributeNull();
+		long rootEvoNestedEvoLeafEvoLongAttribute = rootEvo.getNestedEvo().getLeafEvo().getLongAttribute();
+		boolean isRootEvoNestedEvoLeafEvoLongAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isLongAttributeNull();
+		short rootEvoNestedEvoLeafEvoShortAttribute = rootEvo.getNestedEvo().getLeafEvo().getShortAttribute();
+		boolean isRootEvoNestedEvoLeafEvoShortAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isShortAttributeNull();
+		String rootEvoNestedEvoLeafEvoStringAttribute = rootEvo.getNestedEvo().getLeafEvo().getStringAttribute();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null) rootEvoNestedEvoLeafEvoStringAttribute = rootEvoNestedEvoLeafEvoStringAttribute.trim();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null && rootEvoNestedEvoLeafEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoLeafEvoStringAttribute);
+		Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute = rootEvo.getNestedEvo().getLeafEvo().getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute = rootEvo.getNestedEvo().getLeafEvo().getBigDecimalAttribute();
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		try
+		{
+			EvoType2TxnTypesAData data = null;
+			boolean dataChanged = false;
+			AttributeUpdateWrapper updateWrapper;
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoBooleanAttributeNull() != isRootEvoBooleanAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoBooleanAttribute() != rootEvoBooleanAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BooleanUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoBooleanAttribute(),
+					data,
+					rootEvoBooleanAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoByteAttributeNull() != isRootEvoByteAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoByteAttribute() != rootEvoByteAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ByteUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoByteAttribute(),
+					data,
+					rootEvoByteAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoCharAttributeNull() != isRootEvoCharAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoCharAttribute() != rootEvoCharAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new CharUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoCharAttribute(),
+					data,
+					rootEvoCharAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoDateAttribute().equals(rootEvoDateAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DateUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoDateAttribute(),
+					data,
+					rootEvoDateAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoDoubleAttributeNull() != isRootEvoDoubleAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoDoubleAttribute() != rootEvoDoubleAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DoubleUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoDoubleAttribute(),
+					data,
+					rootEvoDoubleAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoFloatAttributeNull() != isRootEvoFloatAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoFloatAttribute() != rootEvoFloatAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new FloatUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoFloatAttribute(),
+					data,
+					rootEvoFloatAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoIntAttributeNull() != isRootEvoIntAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoIntAttribute() != rootEvoIntAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new IntegerUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoIntAttribute(),
+					data,
+					rootEvoIntAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoLongAttributeNull() != isRootEvoLongAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoLongAttribute() != rootEvoLongAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new LongUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoLongAttribute(),
+					data,
+					rootEvoLongAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoShortAttributeNull() != isRootEvoShortAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoShortAttribute() != rootEvoShortAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ShortUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoShortAttribute(),
+					data,
+					rootEvoShortAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoStringAttribute().equals(rootEvoStringAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new StringUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoStringAttribute(),
+					data,
+					rootEvoStringAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoTimestampAttribute().equals(rootEvoTimestampAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimestampUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoTimestampAttribute(),
+					data,
+					rootEvoTimestampAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoBigDecimalAttribute().equals(rootEvoBigDecimalAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BigDecimalUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoBigDecimalAttribute(),
+					data,
+					rootEvoBigDecimalAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoBooleanAttributeNull() != isRootEvoNestedEvoBooleanAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoBooleanAttribute() != rootEvoNestedEvoBooleanAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BooleanUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoBooleanAttribute(),
+					data,
+					rootEvoNestedEvoBooleanAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoByteAttributeNull() != isRootEvoNestedEvoByteAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoByteAttribute() != rootEvoNestedEvoByteAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ByteUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoByteAttribute(),
+					data,
+					rootEvoNestedEvoByteAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoCharAttributeNull() != isRootEvoNestedEvoCharAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoCharAttribute() != rootEvoNestedEvoCharAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new CharUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoCharAttribute(),
+					data,
+					rootEvoNestedEvoCharAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoDateAttribute().equals(rootEvoNestedEvoDateAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DateUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoDateAttribute(),
+					data,
+					rootEvoNestedEvoDateAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoDoubleAttributeNull() != isRootEvoNestedEvoDoubleAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoDoubleAttribute() != rootEvoNestedEvoDoubleAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DoubleUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoDoubleAttribute(),
+					data,
+					rootEvoNestedEvoDoubleAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoFloatAttributeNull() != isRootEvoNestedEvoFloatAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoFloatAttribute() != rootEvoNestedEvoFloatAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new FloatUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoFloatAttribute(),
+					data,
+					rootEvoNestedEvoFloatAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoIntAttributeNull() != isRootEvoNestedEvoIntAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoIntAttribute() != rootEvoNestedEvoIntAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new IntegerUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoIntAttribute(),
+					data,
+					rootEvoNestedEvoIntAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLongAttributeNull() != isRootEvoNestedEvoLongAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLongAttribute() != rootEvoNestedEvoLongAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new LongUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLongAttribute(),
+					data,
+					rootEvoNestedEvoLongAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoShortAttributeNull() != isRootEvoNestedEvoShortAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoShortAttribute() != rootEvoNestedEvoShortAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ShortUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoShortAttribute(),
+					data,
+					rootEvoNestedEvoShortAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoStringAttribute().equals(rootEvoNestedEvoStringAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new StringUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoStringAttribute(),
+					data,
+					rootEvoNestedEvoStringAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoTimestampAttribute().equals(rootEvoNestedEvoTimestampAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimestampUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoTimestampAttribute(),
+					data,
+					rootEvoNestedEvoTimestampAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoBigDecimalAttribute().equals(rootEvoNestedEvoBigDecimalAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BigDecimalUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoBigDecimalAttribute(),
+					data,
+					rootEvoNestedEvoBigDecimalAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() != isRootEvoNestedEvoLeafEvoBooleanAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoLeafEvoBooleanAttribute() != rootEvoNestedEvoLeafEvoBooleanAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BooleanUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoBooleanAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull() != isRootEvoNestedEvoLeafEvoByteAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoByteAttribute() != rootEvoNestedEvoLeafEvoByteAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ByteUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoByteAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull() != isRootEvoNestedEvoLeafEvoCharAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoCharAttribute() != rootEvoNestedEvoLeafEvoCharAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new CharUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoCharAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoDateAttribute().equals(rootEvoNestedEvoLeafEvoDateAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DateUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDateAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoDateAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() != isRootEvoNestedEvoLeafEvoDoubleAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoDoubleAttribute() != rootEvoNestedEvoLeafEvoDoubleAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DoubleUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoDoubleAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull() != isRootEvoNestedEvoLeafEvoFloatAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoFloatAttribute() != rootEvoNestedEvoLeafEvoFloatAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new FloatUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoFloatAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull() != isRootEvoNestedEvoLeafEvoIntAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoIntAttribute() != rootEvoNestedEvoLeafEvoIntAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new IntegerUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoIntAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull() != isRootEvoNestedEvoLeafEvoLongAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoLongAttribute() != rootEvoNestedEvoLeafEvoLongAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new LongUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoLongAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull() != isRootEvoNestedEvoLeafEvoShortAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoShortAttribute() != rootEvoNestedEvoLeafEvoShortAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ShortUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoShortAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoStringAttribute().equals(rootEvoNestedEvoLeafEvoStringAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new StringUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoStringAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoStringAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(rootEvoNestedEvoLeafEvoTimestampAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimestampUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoTimestampAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BigDecimalUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			this.zResetEmbeddedValueObjects(behavior);
+		}
+
+		finally
+		{
+			behavior.clearTempTransaction(this);
+		}
+	}
+
+	protected EvoTypesNested getRootEvoNestedEvo()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		EvoTypesNested evo = data.getRootEvoNestedEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesNested.managedInstance(this, EvoType2TxnTypesAFinder.rootEvoNestedEvo());
+			data.setRootEvoNestedEvo(evo);
+		}
+
+		return evo;
+	}
+
+	protected void copyRootEvoNestedEvo(EvoTypesNested nestedEvo)
+	{
+		boolean rootEvoNestedEvoBooleanAttribute = nestedEvo.getBooleanAttribute();
+		boolean isRootEvoNestedEvoBooleanAttributeNull = nestedEvo.isBooleanAttributeNull();
+		byte rootEvoNestedEvoByteAttribute = nestedEvo.getByteAttribute();
+		boolean isRootEvoNestedEvoByteAttributeNull = nestedEvo.isByteAttributeNull();
+		char rootEvoNestedEvoCharAttribute = nestedEvo.getCharAttribute();
+		boolean isRootEvoNestedEvoCharAttributeNull = nestedEvo.isCharAttributeNull();
+		Date rootEvoNestedEvoDateAttribute = nestedEvo.getDateAttribute();
+		double rootEvoNestedEvoDoubleAttribute = nestedEvo.getDoubleAttribute();
+		boolean isRootEvoNestedEvoDoubleAttributeNull = nestedEvo.isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoDoubleAttribute);
+		float rootEvoNestedEvoFloatAttribute = nestedEvo.getFloatAttribute();
+		boolean isRootEvoNestedEvoFloatAttributeNull = nestedEvo.isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoFloatAttribute);
+		int rootEvoNestedEvoIntAttribute = nestedEvo.getIntAttribute();
+		boolean isRootEvoNestedEvoIntAttributeNull = nestedEvo.isIntAttributeNull();
+		long rootEvoNestedEvoLongAttribute = nestedEvo.getLongAttribute();
+		boolean isRootEvoNestedEvoLongAttributeNull = nestedEvo.isLongAttributeNull();
+		short rootEvoNestedEvoShortAttribute = nestedEvo.getShortAttribute();
+		boolean isRootEvoNestedEvoShortAttributeNull = nestedEvo.isShortAttributeNull();
+		String rootEvoNestedEvoStringAttribute = nestedEvo.getStringAttribute();
+		if (rootEvoNestedEvoStringAttribute != null) rootEvoNestedEvoStringAttribute = rootEvoNestedEvoStringAttribute.trim();
+		if (rootEvoNestedEvoStringAttribute != null && rootEvoNestedEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoStringAttribute);
+		Timestamp rootEvoNestedEvoTimestampAttribute = nestedEvo.getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoBigDecimalAttribute = nestedEvo.getBigDecimalAttribute();
+		boolean rootEvoNestedEvoLeafEvoBooleanAttribute = nestedEvo.getLeafEvo().getBooleanAttribute();
+		boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull = nestedEvo.getLeafEvo().isBooleanAttributeNull();
+		byte rootEvoNestedEvoLeafEvoByteAttribute = nestedEvo.getLeafEvo().getByteAttribute();
+		boolean isRootEvoNestedEvoLeafEvoByteAttributeNull = nestedEvo.getLeafEvo().isByteAttributeNull();
+		char rootEvoNestedEvoLeafEvoCharAttribute = nestedEvo.getLeafEvo().getCharAttribute();
+		boolean isRootEvoNestedEvoLeafEvoCharAttributeNull = nestedEvo.getLeafEvo().isCharAttributeNull();
+		Date rootEvoNestedEvoLeafEvoDateAttribute = nestedEvo.getLeafEvo().getDateAttribute();
+		double rootEvoNestedEvoLeafEvoDoubleAttribute = nestedEvo.getLeafEvo().getDoubleAttribute();
+		boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull = nestedEvo.getLeafEvo().isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		float rootEvoNestedEvoLeafEvoFloatAttribute = nestedEvo.getLeafEvo().getFloatAttribute();
+		boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull = nestedEvo.getLeafEvo().isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoLeafEvoFloatAttribute);
+		int rootEvoNestedEvoLeafEvoIntAttribute = nestedEvo.getLeafEvo().getIntAttribute();
+		boolean isRootEvoNestedEvoLeafEvoIntAttributeNull = nestedEvo.getLeafEvo().isIntAttributeNull();
+		long rootEvoNestedEvoLeafEvoLongAttribute = nestedEvo.getLeafEvo().getLongAttribute();
+		boolean isRootEvoNestedEvoLeafEvoLongAttributeNull = nestedEvo.getLeafEvo().isLongAttributeNull();
+		short rootEvoNestedEvoLeafEvoShortAttribute = nestedEvo.getLeafEvo().getShortAttribute();
+		boolean isRootEvoNestedEvoLeafEvoShortAttributeNull = nestedEvo.getLeafEvo().isShortAttributeNull();
+		String rootEvoNestedEvoLeafEvoStringAttribute = nestedEvo.getLeafEvo().getStringAttribute();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null) rootEvoNestedEvoLeafEvoStringAttribute = rootEvoNestedEvoLeafEvoStringAttribute.trim();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null && rootEvoNestedEvoLeafEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoLeafEvoStringAttribute);
+		Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute = nestedEvo.getLeafEvo().getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute = nestedEvo.getLeafEvo().getBigDecimalAttribute();
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		try
+		{
+			EvoType2TxnTypesAData data = null;
+			boolean dataChanged = false;
+			AttributeUpdateWrapper updateWrapper;
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoBooleanAttributeNull() != isRootEvoNestedEvoBooleanAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoBooleanAttribute() != rootEvoNestedEvoBooleanAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BooleanUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoBooleanAttribute(),
+					data,
+					rootEvoNestedEvoBooleanAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoByteAttributeNull() != isRootEvoNestedEvoByteAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoByteAttribute() != rootEvoNestedEvoByteAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ByteUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoByteAttribute(),
+					data,
+					rootEvoNestedEvoByteAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoCharAttributeNull() != isRootEvoNestedEvoCharAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoCharAttribute() != rootEvoNestedEvoCharAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new CharUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoCharAttribute(),
+					data,
+					rootEvoNestedEvoCharAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoDateAttribute().equals(rootEvoNestedEvoDateAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DateUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoDateAttribute(),
+					data,
+					rootEvoNestedEvoDateAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoDoubleAttributeNull() != isRootEvoNestedEvoDoubleAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoDoubleAttribute() != rootEvoNestedEvoDoubleAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DoubleUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoDoubleAttribute(),
+					data,
+					rootEvoNestedEvoDoubleAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoFloatAttributeNull() != isRootEvoNestedEvoFloatAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoFloatAttribute() != rootEvoNestedEvoFloatAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new FloatUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoFloatAttribute(),
+					data,
+					rootEvoNestedEvoFloatAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoIntAttributeNull() != isRootEvoNestedEvoIntAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoIntAttribute() != rootEvoNestedEvoIntAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new IntegerUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoIntAttribute(),
+					data,
+					rootEvoNestedEvoIntAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLongAttributeNull() != isRootEvoNestedEvoLongAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLongAttribute() != rootEvoNestedEvoLongAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new LongUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLongAttribute(),
+					data,
+					rootEvoNestedEvoLongAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoShortAttributeNull() != isRootEvoNestedEvoShortAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoShortAttribute() != rootEvoNestedEvoShortAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ShortUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoShortAttribute(),
+					data,
+					rootEvoNestedEvoShortAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoStringAttribute().equals(rootEvoNestedEvoStringAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new StringUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoStringAttribute(),
+					data,
+					rootEvoNestedEvoStringAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoTimestampAttribute().equals(rootEvoNestedEvoTimestampAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimestampUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoTimestampAttribute(),
+					data,
+					rootEvoNestedEvoTimestampAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoBigDecimalAttribute().equals(rootEvoNestedEvoBigDecimalAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BigDecimalUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoBigDecimalAttribute(),
+					data,
+					rootEvoNestedEvoBigDecimalAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() != isRootEvoNestedEvoLeafEvoBooleanAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoLeafEvoBooleanAttribute() != rootEvoNestedEvoLeafEvoBooleanAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BooleanUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoBooleanAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull() != isRootEvoNestedEvoLeafEvoByteAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoByteAttribute() != rootEvoNestedEvoLeafEvoByteAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ByteUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoByteAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull() != isRootEvoNestedEvoLeafEvoCharAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoCharAttribute() != rootEvoNestedEvoLeafEvoCharAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new CharUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoCharAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoDateAttribute().equals(rootEvoNestedEvoLeafEvoDateAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DateUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDateAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoDateAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() != isRootEvoNestedEvoLeafEvoDoubleAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoDoubleAttribute() != rootEvoNestedEvoLeafEvoDoubleAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DoubleUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoDoubleAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull() != isRootEvoNestedEvoLeafEvoFloatAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoFloatAttribute() != rootEvoNestedEvoLeafEvoFloatAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new FloatUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoFloatAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull() != isRootEvoNestedEvoLeafEvoIntAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoIntAttribute() != rootEvoNestedEvoLeafEvoIntAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new IntegerUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoIntAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull() != isRootEvoNestedEvoLeafEvoLongAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoLongAttribute() != rootEvoNestedEvoLeafEvoLongAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new LongUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoLongAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull() != isRootEvoNestedEvoLeafEvoShortAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoShortAttribute() != rootEvoNestedEvoLeafEvoShortAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ShortUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoShortAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoStringAttribute().equals(rootEvoNestedEvoLeafEvoStringAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new StringUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoStringAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoStringAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(rootEvoNestedEvoLeafEvoTimestampAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimestampUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoTimestampAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BigDecimalUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			this.zResetEmbeddedValueObjects(behavior);
+		}
+
+		finally
+		{
+			behavior.clearTempTransaction(this);
+		}
+	}
+
+	protected EvoTypesLeaf getRootEvoNestedEvoLeafEvo()
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) this.zSynchronizedGetData();
+		EvoTypesLeaf evo = data.getRootEvoNestedEvoLeafEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesLeaf.managedInstance(this, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvo());
+			data.setRootEvoNestedEvoLeafEvo(evo);
+		}
+
+		return evo;
+	}
+
+	protected void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf leafEvo)
+	{
+		boolean rootEvoNestedEvoLeafEvoBooleanAttribute = leafEvo.getBooleanAttribute();
+		boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull = leafEvo.isBooleanAttributeNull();
+		byte rootEvoNestedEvoLeafEvoByteAttribute = leafEvo.getByteAttribute();
+		boolean isRootEvoNestedEvoLeafEvoByteAttributeNull = leafEvo.isByteAttributeNull();
+		char rootEvoNestedEvoLeafEvoCharAttribute = leafEvo.getCharAttribute();
+		boolean isRootEvoNestedEvoLeafEvoCharAttributeNull = leafEvo.isCharAttributeNull();
+		Date rootEvoNestedEvoLeafEvoDateAttribute = leafEvo.getDateAttribute();
+		double rootEvoNestedEvoLeafEvoDoubleAttribute = leafEvo.getDoubleAttribute();
+		boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull = leafEvo.isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		float rootEvoNestedEvoLeafEvoFloatAttribute = leafEvo.getFloatAttribute();
+		boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull = leafEvo.isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoLeafEvoFloatAttribute);
+		int rootEvoNestedEvoLeafEvoIntAttribute = leafEvo.getIntAttribute();
+		boolean isRootEvoNestedEvoLeafEvoIntAttributeNull = leafEvo.isIntAttributeNull();
+		long rootEvoNestedEvoLeafEvoLongAttribute = leafEvo.getLongAttribute();
+		boolean isRootEvoNestedEvoLeafEvoLongAttributeNull = leafEvo.isLongAttributeNull();
+		short rootEvoNestedEvoLeafEvoShortAttribute = leafEvo.getShortAttribute();
+		boolean isRootEvoNestedEvoLeafEvoShortAttributeNull = leafEvo.isShortAttributeNull();
+		String rootEvoNestedEvoLeafEvoStringAttribute = leafEvo.getStringAttribute();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null) rootEvoNestedEvoLeafEvoStringAttribute = rootEvoNestedEvoLeafEvoStringAttribute.trim();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null && rootEvoNestedEvoLeafEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoLeafEvoStringAttribute);
+		Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute = leafEvo.getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute = leafEvo.getBigDecimalAttribute();
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		try
+		{
+			EvoType2TxnTypesAData data = null;
+			boolean dataChanged = false;
+			AttributeUpdateWrapper updateWrapper;
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() != isRootEvoNestedEvoLeafEvoBooleanAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoLeafEvoBooleanAttribute() != rootEvoNestedEvoLeafEvoBooleanAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BooleanUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoBooleanAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull() != isRootEvoNestedEvoLeafEvoByteAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoByteAttribute() != rootEvoNestedEvoLeafEvoByteAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ByteUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoByteAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull() != isRootEvoNestedEvoLeafEvoCharAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoCharAttribute() != rootEvoNestedEvoLeafEvoCharAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new CharUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoCharAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoDateAttribute().equals(rootEvoNestedEvoLeafEvoDateAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DateUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDateAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoDateAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() != isRootEvoNestedEvoLeafEvoDoubleAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoDoubleAttribute() != rootEvoNestedEvoLeafEvoDoubleAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new DoubleUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoDoubleAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull() != isRootEvoNestedEvoLeafEvoFloatAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoFloatAttribute() != rootEvoNestedEvoLeafEvoFloatAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new FloatUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoFloatAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull() != isRootEvoNestedEvoLeafEvoIntAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoIntAttribute() != rootEvoNestedEvoLeafEvoIntAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new IntegerUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoIntAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull() != isRootEvoNestedEvoLeafEvoLongAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoLongAttribute() != rootEvoNestedEvoLeafEvoLongAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new LongUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoLongAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull() != isRootEvoNestedEvoLeafEvoShortAttributeNull)
+			{
+				dataChanged = true;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoShortAttribute() != rootEvoNestedEvoLeafEvoShortAttribute;
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new ShortUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoShortAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoStringAttribute().equals(rootEvoNestedEvoLeafEvoStringAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new StringUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoStringAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoStringAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(rootEvoNestedEvoLeafEvoTimestampAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new TimestampUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoTimestampAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			data = (EvoType2TxnTypesAData) behavior.getCurrentDataForRead(this);
+			if (data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			}
+
+			if (dataChanged)
+			{
+				data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+				updateWrapper = new BigDecimalUpdateWrapper(
+					EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(),
+					data,
+					rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+				behavior.update(this, updateWrapper, false, true);
+			}
+
+			this.zResetEmbeddedValueObjects(behavior);
+		}
+
+		finally
+		{
+			behavior.clearTempTransaction(this);
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.booleanAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.byteAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.charAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.doubleAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.floatAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.intAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.longAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.shortAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoBooleanAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoByteAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoCharAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoDoubleAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoFloatAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoIntAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoLongAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoShortAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoBooleanAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoByteAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoCharAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoDoubleAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoFloatAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoIntAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoLongAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoShortAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(), false);
+		zNullify(behavior, data, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(), false);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.booleanAttribute(), false);
+	}
+
+	public void setByteAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.byteAttribute(), false);
+	}
+
+	public void setCharAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.charAttribute(), false);
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.doubleAttribute(), false);
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.floatAttribute(), false);
+	}
+
+	public void setIntAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.intAttribute(), false);
+	}
+
+	public void setLongAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.longAttribute(), false);
+	}
+
+	public void setShortAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.shortAttribute(), false);
+	}
+
+	protected void setRootEvoBooleanAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoBooleanAttribute(), false);
+	}
+
+	protected void setRootEvoByteAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoByteAttribute(), false);
+	}
+
+	protected void setRootEvoCharAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoCharAttribute(), false);
+	}
+
+	protected void setRootEvoDoubleAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoDoubleAttribute(), false);
+	}
+
+	protected void setRootEvoFloatAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoFloatAttribute(), false);
+	}
+
+	protected void setRootEvoIntAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoIntAttribute(), false);
+	}
+
+	protected void setRootEvoLongAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoLongAttribute(), false);
+	}
+
+	protected void setRootEvoShortAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoShortAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoBooleanAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoByteAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoByteAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoCharAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoCharAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoDoubleAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoFloatAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoIntAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoIntAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLongAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoLongAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoShortAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoShortAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		zNullify(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		EvoType2TxnTypesAData _newData = (EvoType2TxnTypesAData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		EvoType2TxnTypesAData _newData = (EvoType2TxnTypesAData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		EvoType2TxnTypesAData _newData = (EvoType2TxnTypesAData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public Order getRootEvoOrder()
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		EvoType2TxnTypesAData _data = (EvoType2TxnTypesAData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isRootEvoIntAttributeNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrootEvoOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isRootEvoIntAttributeNull())
+				{
+					Operation detachedOp = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute());
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getRootEvoOrder();
+			if (_result == null)
+			{
+				if (!_data.isRootEvoIntAttributeNull())
+				{
+					_op = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRootEvoOrder(Order rootEvoOrder)
+	{
+		Order _rootEvoOrder = (Order) rootEvoOrder;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		EvoType2TxnTypesAData _data = (EvoType2TxnTypesAData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setRootEvoOrder(_rootEvoOrder);
+			if (_rootEvoOrder == null)
+			{
+				this.setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				this.setRootEvoIntAttribute(_rootEvoOrder.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_rootEvoOrder == null)
+			{
+				this.setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				this.setRootEvoIntAttribute(
+					_rootEvoOrder.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public Order getRootEvoOrderWithDate(Timestamp date)
+	{
+		Order _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		EvoType2TxnTypesAData _data = (EvoType2TxnTypesAData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isRootEvoIntAttributeNull())
+			{
+				{
+					_op = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute()).and(OrderFinder.orderDate().eq(date));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatus getRootEvoNestedEvoOrderStatus()
+	{
+		OrderStatus _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		EvoType2TxnTypesAData _data = (EvoType2TxnTypesAData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isRootEvoNestedEvoIntAttributeNull())
+			{
+				_portal = OrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrootEvoNestedEvoOrderStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatus) _related;
+				if (_related == null)
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isRootEvoNestedEvoIntAttributeNull())
+				{
+					Operation detachedOp = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute());
+					_result = OrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderStatus) _data.getRootEvoNestedEvoOrderStatus();
+			if (_result == null)
+			{
+				if (!_data.isRootEvoNestedEvoIntAttributeNull())
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRootEvoNestedEvoOrderStatus(OrderStatus rootEvoNestedEvoOrderStatus)
+	{
+		OrderStatus _rootEvoNestedEvoOrderStatus = (OrderStatus) rootEvoNestedEvoOrderStatus;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		EvoType2TxnTypesAData _data = (EvoType2TxnTypesAData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setRootEvoNestedEvoOrderStatus(_rootEvoNestedEvoOrderStatus);
+			if (_rootEvoNestedEvoOrderStatus == null)
+			{
+				this.setRootEvoNestedEvoIntAttributeNull();
+			}
+			else
+			{
+				this.setRootEvoNestedEvoIntAttribute(_rootEvoNestedEvoOrderStatus.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_rootEvoNestedEvoOrderStatus == null)
+			{
+				this.setRootEvoNestedEvoIntAttributeNull();
+			}
+			else
+			{
+				this.setRootEvoNestedEvoIntAttribute(
+					_rootEvoNestedEvoOrderStatus.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatus getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		OrderStatus _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		EvoType2TxnTypesAData _data = (EvoType2TxnTypesAData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isRootEvoNestedEvoIntAttributeNull())
+			{
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute()).and(OrderStatusFinder.status().eq(status));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public EvoType2TxnTypesA zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		EvoType2TxnTypesA original = (EvoType2TxnTypesA) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return EvoType2TxnTypesAFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return EvoType2TxnTypesAFinder.getMithraObjectPortal();
+	}
+
+	public EvoType2TxnTypesA getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType2TxnTypesAFinder.booleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType2TxnTypesAFinder.byteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType2TxnTypesAFinder.charAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType2TxnTypesAFinder.dateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType2TxnTypesAFinder.doubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType2TxnTypesAFinder.floatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType2TxnTypesAFinder.intAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType2TxnTypesAFinder.longAttribute(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoLongAttribute(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoIntAttribute(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoNestedEvoTimestampAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType2TxnTypesAFinder.rootEvoTimestampAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType2TxnTypesAFinder.shortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType2TxnTypesAFinder.stringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType2TxnTypesAFinder.timestampAttribute(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType2TxnTypesAFinder.pkBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType2TxnTypesAFinder.pkBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType2TxnTypesAFinder.pkByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType2TxnTypesAFinder.pkCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType2TxnTypesAFinder.pkDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType2TxnTypesAFinder.pkDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType2TxnTypesAFinder.pkFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType2TxnTypesAFinder.pkIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType2TxnTypesAFinder.pkLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType2TxnTypesAFinder.pkShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType2TxnTypesAFinder.pkStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType2TxnTypesAFinder.pkTimestampAttribute(), false);
+		return changed;
+	}
+
+	protected void zResetEmbeddedValueObjects(TransactionalBehavior behavior)
+	{
+		EvoType2TxnTypesAData data = (EvoType2TxnTypesAData) behavior.getCurrentDataForWrite(this);
+		data.setPk(null);
+		data.setRootEvo(null);
+		data.setRootEvoNestedEvo(null);
+		data.setRootEvoNestedEvoLeafEvo(null);
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		EvoType2TxnTypesAAbstract result = (EvoType2TxnTypesAAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,651 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class EvoType2TxnTypesAListAbstract extends DelegatingList<EvoType2TxnTypesA> implements MithraTransactionalList<EvoType2TxnTypesA>
+{
+	public EvoType2TxnTypesAListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public EvoType2TxnTypesAListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public EvoType2TxnTypesAListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public EvoType2TxnTypesAListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public EvoType2TxnTypesA[] elements()
+	{
+		EvoType2TxnTypesA[] result = new EvoType2TxnTypesA[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public EvoType2TxnTypesAList intersection(EvoType2TxnTypesAList another)
+	{
+		return (EvoType2TxnTypesAList)super.intersection(another);
+	}
+
+	public EvoType2TxnTypesA getEvoType2TxnTypesAAt(int index)
+	{
+		return (EvoType2TxnTypesA)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public OrderList getRootEvoOrders()
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType2TxnTypesAFinder.rootEvoOrder());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public OrderList getRootEvoOrderWithDates(Timestamp date)
+	{
+		return (OrderList) this.zGetDelegated().resolveRelationship(this, EvoType2TxnTypesAFinder.rootEvoOrderWithDate(date));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatus()
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType2TxnTypesAFinder.rootEvoNestedEvoOrderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatusList getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		return (OrderStatusList) this.zGetDelegated().resolveRelationship(this, EvoType2TxnTypesAFinder.rootEvoNestedEvoOrderStatusWithStatus(status));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EvoType2TxnTypesAFinder.getMithraObjectPortal();
+	}
+
+	public EvoType2TxnTypesAList getNonPersistentCopy()
+	{
+		EvoType2TxnTypesAList result = new EvoType2TxnTypesAList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public EvoType2TxnTypesAList asAdhoc()
+	{
+		return (EvoType2TxnTypesAList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<EvoType2TxnTypesA> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public EvoType2TxnTypesAList merge(MithraTransactionalList<EvoType2TxnTypesA> incoming, TopLevelMergeOptions<EvoType2TxnTypesA> mergeOptions)
+	{
+		return (EvoType2TxnTypesAList) super.merge(incoming, mergeOptions);
+	}
+
+	public EvoType2TxnTypesAList getDetachedCopy()
+	{
+		EvoType2TxnTypesAList result = new EvoType2TxnTypesAList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.booleanAttribute(), newValue);
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.byteAttribute(), newValue);
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.charAttribute(), newValue);
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.dateAttribute(), newValue);
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.doubleAttribute(), newValue);
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.floatAttribute(), newValue);
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.intAttribute(), newValue);
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.longAttribute(), newValue);
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.shortAttribute(), newValue);
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		zSetString(EvoType2TxnTypesAFinder.stringAttribute(), newValue);
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.timestampAttribute(), newValue);
+	}
+
+	public void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.pkBooleanAttribute(), newValue);
+	}
+
+	public void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.pkByteAttribute(), newValue);
+	}
+
+	public void setPkCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.pkCharAttribute(), newValue);
+	}
+
+	public void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.pkDateAttribute(), newValue);
+	}
+
+	public void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.pkDoubleAttribute(), newValue);
+	}
+
+	public void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.pkFloatAttribute(), newValue);
+	}
+
+	public void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.pkIntAttribute(), newValue);
+	}
+
+	public void setPkLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.pkLongAttribute(), newValue);
+	}
+
+	public void setPkShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.pkShortAttribute(), newValue);
+	}
+
+	public void setPkStringAttribute(String newValue)
+	{
+		zSetString(EvoType2TxnTypesAFinder.pkStringAttribute(), newValue);
+	}
+
+	public void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.pkTimestampAttribute(), newValue);
+	}
+
+	public void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2TxnTypesAFinder.pkBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.rootEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.rootEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.rootEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.rootEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.rootEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.rootEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.rootEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.rootEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.rootEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType2TxnTypesAFinder.rootEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.rootEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2TxnTypesAFinder.rootEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.rootEvoNestedEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.rootEvoNestedEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.rootEvoNestedEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.rootEvoNestedEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.rootEvoNestedEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.rootEvoNestedEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.rootEvoNestedEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.rootEvoNestedEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.rootEvoNestedEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType2TxnTypesAFinder.rootEvoNestedEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.rootEvoNestedEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2TxnTypesAFinder.rootEvoNestedEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDateAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoStringAttribute(String newValue)
+	{
+		zSetString(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoStringAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), newValue);
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), newValue);
+	}
+
+	public void copyPk(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType2TxnTypesAFinder.pk(), newValue);
+	}
+
+	public void copyRootEvo(EvoTypesRoot newValue)
+	{
+		zSetEvoValue(EvoType2TxnTypesAFinder.rootEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvo(EvoTypesNested newValue)
+	{
+		zSetEvoValue(EvoType2TxnTypesAFinder.rootEvoNestedEvo(), newValue);
+	}
+
+	public void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf newValue)
+	{
+		zSetEvoValue(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvo(), newValue);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.booleanAttribute());
+	}
+
+	public void setByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.byteAttribute());
+	}
+
+	public void setCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.charAttribute());
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.doubleAttribute());
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.floatAttribute());
+	}
+
+	public void setIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.intAttribute());
+	}
+
+	public void setLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.longAttribute());
+	}
+
+	public void setShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.shortAttribute());
+	}
+
+	public void setRootEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoBooleanAttribute());
+	}
+
+	public void setRootEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoByteAttribute());
+	}
+
+	public void setRootEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoCharAttribute());
+	}
+
+	public void setRootEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoDoubleAttribute());
+	}
+
+	public void setRootEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoFloatAttribute());
+	}
+
+	public void setRootEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoIntAttribute());
+	}
+
+	public void setRootEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoLongAttribute());
+	}
+
+	public void setRootEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoShortAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoBooleanAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoByteAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoCharAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoDoubleAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoFloatAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoIntAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoLongAttribute());
+	}
+
+	public void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		zSetAttributeNull(EvoType2TxnTypesAFinder.rootEvoNestedEvoLeafEvoShortAttribute());
+	}
+}
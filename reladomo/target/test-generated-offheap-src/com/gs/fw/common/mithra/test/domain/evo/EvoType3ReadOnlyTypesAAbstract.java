@@ -0,0 +1,2191 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class EvoType3ReadOnlyTypesAAbstract extends com.gs.fw.common.mithra.test.domain.evo.EvoType3ReadOnlyTypes
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private static final RelationshipHashStrategy forrootEvoOrder = new RootEvoOrderRhs();
+	private static final RelationshipHashStrategy forrootEvoNestedEvoOrderStatus = new RootEvoNestedEvoOrderStatusRhs();
+	private static final class RootEvoOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			EvoType3ReadOnlyTypesA _castedSrcObject = (EvoType3ReadOnlyTypesA) _srcObject;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcObject.isRootEvoIntAttributeNull() && _castedSrcObject.getRootEvoIntAttribute() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			EvoType3ReadOnlyTypesA _castedSrcObject = (EvoType3ReadOnlyTypesA) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getRootEvoIntAttribute(), _castedSrcObject.isRootEvoIntAttributeNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class RootEvoNestedEvoOrderStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			EvoType3ReadOnlyTypesA _castedSrcObject = (EvoType3ReadOnlyTypesA) _srcObject;
+			OrderStatusData _castedTargetData = (OrderStatusData) _targetData;
+			if (!_castedSrcObject.isRootEvoNestedEvoIntAttributeNull() && _castedSrcObject.getRootEvoNestedEvoIntAttribute() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			EvoType3ReadOnlyTypesA _castedSrcObject = (EvoType3ReadOnlyTypesA) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getRootEvoNestedEvoIntAttribute(), _castedSrcObject.isRootEvoNestedEvoIntAttributeNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private long isNullBits0a = 0;
+	private boolean booleanAttribute;
+	private byte byteAttribute;
+	private char charAttribute;
+	private Date dateAttribute;
+	private double doubleAttribute;
+	private float floatAttribute;
+	private int intAttribute;
+	private long longAttribute;
+	private BigDecimal rootEvoBigDecimalAttribute;
+	private boolean rootEvoBooleanAttribute;
+	private byte rootEvoByteAttribute;
+	private char rootEvoCharAttribute;
+	private Date rootEvoDateAttribute;
+	private double rootEvoDoubleAttribute;
+	private float rootEvoFloatAttribute;
+	private int rootEvoIntAttribute;
+	private long rootEvoLongAttribute;
+	private BigDecimal rootEvoNestedEvoBigDecimalAttribute;
+	private boolean rootEvoNestedEvoBooleanAttribute;
+	private byte rootEvoNestedEvoByteAttribute;
+	private char rootEvoNestedEvoCharAttribute;
+	private Date rootEvoNestedEvoDateAttribute;
+	private double rootEvoNestedEvoDoubleAttribute;
+	private float rootEvoNestedEvoFloatAttribute;
+	private int rootEvoNestedEvoIntAttribute;
+	private BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+	private boolean rootEvoNestedEvoLeafEvoBooleanAttribute;
+	private byte rootEvoNestedEvoLeafEvoByteAttribute;
+	private char rootEvoNestedEvoLeafEvoCharAttribute;
+	private Date rootEvoNestedEvoLeafEvoDateAttribute;
+	private double rootEvoNestedEvoLeafEvoDoubleAttribute;
+	private float rootEvoNestedEvoLeafEvoFloatAttribute;
+	private int rootEvoNestedEvoLeafEvoIntAttribute;
+	private long rootEvoNestedEvoLeafEvoLongAttribute;
+	private short rootEvoNestedEvoLeafEvoShortAttribute;
+	private String rootEvoNestedEvoLeafEvoStringAttribute;
+	private Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute;
+	private long rootEvoNestedEvoLongAttribute;
+	private short rootEvoNestedEvoShortAttribute;
+	private String rootEvoNestedEvoStringAttribute;
+	private Timestamp rootEvoNestedEvoTimestampAttribute;
+	private short rootEvoShortAttribute;
+	private String rootEvoStringAttribute;
+	private Timestamp rootEvoTimestampAttribute;
+	private short shortAttribute;
+	private String stringAttribute;
+	private Timestamp timestampAttribute;
+	private EvoTypesLeaf pk;
+	private EvoTypesRoot rootEvo;
+	private EvoTypesNested rootEvoNestedEvo;
+	private EvoTypesLeaf rootEvoNestedEvoLeafEvo;
+	public boolean isDateAttributeNull()
+	{
+		return this.getDateAttribute() == null;
+	}
+
+	protected boolean isRootEvoBigDecimalAttributeNull()
+	{
+		return this.getRootEvoBigDecimalAttribute() == null;
+	}
+
+	protected boolean isRootEvoDateAttributeNull()
+	{
+		return this.getRootEvoDateAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoBigDecimalAttributeNull()
+	{
+		return this.getRootEvoNestedEvoBigDecimalAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoDateAttributeNull()
+	{
+		return this.getRootEvoNestedEvoDateAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull()
+	{
+		return this.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDateAttributeNull()
+	{
+		return this.getRootEvoNestedEvoLeafEvoDateAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoStringAttributeNull()
+	{
+		return this.getRootEvoNestedEvoLeafEvoStringAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoTimestampAttributeNull()
+	{
+		return this.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoStringAttributeNull()
+	{
+		return this.getRootEvoNestedEvoStringAttribute() == null;
+	}
+
+	protected boolean isRootEvoNestedEvoTimestampAttributeNull()
+	{
+		return this.getRootEvoNestedEvoTimestampAttribute() == null;
+	}
+
+	protected boolean isRootEvoStringAttributeNull()
+	{
+		return this.getRootEvoStringAttribute() == null;
+	}
+
+	protected boolean isRootEvoTimestampAttributeNull()
+	{
+		return this.getRootEvoTimestampAttribute() == null;
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.getStringAttribute() == null;
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.getTimestampAttribute() == null;
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return (isNullBits0a & 1) != 0 ;
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return (isNullBits0a & 1 << 1) != 0 ;
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return (isNullBits0a & 1 << 2) != 0 ;
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return (isNullBits0a & 1 << 3) != 0 ;
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return (isNullBits0a & 1 << 4) != 0 ;
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return (isNullBits0a & 1 << 5) != 0 ;
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return (isNullBits0a & 1 << 6) != 0 ;
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return (isNullBits0a & 1 << 7) != 0 ;
+	}
+
+	protected boolean isRootEvoBooleanAttributeNull()
+	{
+		return (isNullBits0a & 1 << 8) != 0 ;
+	}
+
+	protected boolean isRootEvoByteAttributeNull()
+	{
+		return (isNullBits0a & 1 << 9) != 0 ;
+	}
+
+	protected boolean isRootEvoCharAttributeNull()
+	{
+		return (isNullBits0a & 1 << 10) != 0 ;
+	}
+
+	protected boolean isRootEvoDoubleAttributeNull()
+	{
+		return (isNullBits0a & 1 << 11) != 0 ;
+	}
+
+	protected boolean isRootEvoFloatAttributeNull()
+	{
+		return (isNullBits0a & 1 << 12) != 0 ;
+	}
+
+	protected boolean isRootEvoIntAttributeNull()
+	{
+		return (isNullBits0a & 1 << 13) != 0 ;
+	}
+
+	protected boolean isRootEvoLongAttributeNull()
+	{
+		return (isNullBits0a & 1 << 14) != 0 ;
+	}
+
+	protected boolean isRootEvoShortAttributeNull()
+	{
+		return (isNullBits0a & 1 << 15) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttributeNull()
+	{
+		return (isNullBits0a & 1 << 16) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoByteAttributeNull()
+	{
+		return (isNullBits0a & 1 << 17) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoCharAttributeNull()
+	{
+		return (isNullBits0a & 1 << 18) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoDoubleAttributeNull()
+	{
+		return (isNullBits0a & 1 << 19) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoFloatAttributeNull()
+	{
+		return (isNullBits0a & 1 << 20) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoIntAttributeNull()
+	{
+		return (isNullBits0a & 1 << 21) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLongAttributeNull()
+	{
+		return (isNullBits0a & 1 << 22) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoShortAttributeNull()
+	{
+		return (isNullBits0a & 1 << 23) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		return (isNullBits0a & 1 << 24) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		return (isNullBits0a & 1 << 25) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		return (isNullBits0a & 1 << 26) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		return (isNullBits0a & 1 << 27) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		return (isNullBits0a & 1 << 28) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		return (isNullBits0a & 1 << 29) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		return (isNullBits0a & 1 << 30) != 0 ;
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		return (isNullBits0a & 1L << 31) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		super.zSerializeFullData(out);
+		zWriteNullBits(out);
+		out.writeBoolean(this.booleanAttribute);
+		out.writeByte(this.byteAttribute);
+		out.writeChar(this.charAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.dateAttribute);
+		out.writeDouble(this.doubleAttribute);
+		out.writeFloat(this.floatAttribute);
+		out.writeInt(this.intAttribute);
+		out.writeLong(this.longAttribute);
+		out.writeObject(this.rootEvoBigDecimalAttribute);
+		out.writeBoolean(this.rootEvoBooleanAttribute);
+		out.writeByte(this.rootEvoByteAttribute);
+		out.writeChar(this.rootEvoCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.rootEvoDateAttribute);
+		out.writeDouble(this.rootEvoDoubleAttribute);
+		out.writeFloat(this.rootEvoFloatAttribute);
+		out.writeInt(this.rootEvoIntAttribute);
+		out.writeLong(this.rootEvoLongAttribute);
+		out.writeObject(this.rootEvoNestedEvoBigDecimalAttribute);
+		out.writeBoolean(this.rootEvoNestedEvoBooleanAttribute);
+		out.writeByte(this.rootEvoNestedEvoByteAttribute);
+		out.writeChar(this.rootEvoNestedEvoCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.rootEvoNestedEvoDateAttribute);
+		out.writeDouble(this.rootEvoNestedEvoDoubleAttribute);
+		out.writeFloat(this.rootEvoNestedEvoFloatAttribute);
+		out.writeInt(this.rootEvoNestedEvoIntAttribute);
+		out.writeObject(this.rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+		out.writeBoolean(this.rootEvoNestedEvoLeafEvoBooleanAttribute);
+		out.writeByte(this.rootEvoNestedEvoLeafEvoByteAttribute);
+		out.writeChar(this.rootEvoNestedEvoLeafEvoCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.rootEvoNestedEvoLeafEvoDateAttribute);
+		out.writeDouble(this.rootEvoNestedEvoLeafEvoDoubleAttribute);
+		out.writeFloat(this.rootEvoNestedEvoLeafEvoFloatAttribute);
+		out.writeInt(this.rootEvoNestedEvoLeafEvoIntAttribute);
+		out.writeLong(this.rootEvoNestedEvoLeafEvoLongAttribute);
+		out.writeShort(this.rootEvoNestedEvoLeafEvoShortAttribute);
+		out.writeObject(this.rootEvoNestedEvoLeafEvoStringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.rootEvoNestedEvoLeafEvoTimestampAttribute);
+		out.writeLong(this.rootEvoNestedEvoLongAttribute);
+		out.writeShort(this.rootEvoNestedEvoShortAttribute);
+		out.writeObject(this.rootEvoNestedEvoStringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.rootEvoNestedEvoTimestampAttribute);
+		out.writeShort(this.rootEvoShortAttribute);
+		out.writeObject(this.rootEvoStringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.rootEvoTimestampAttribute);
+		out.writeShort(this.shortAttribute);
+		out.writeObject(this.stringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.timestampAttribute);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.isNullBits0a);
+	}
+
+	public EvoTypesLeaf getPk()
+	{
+		EvoTypesLeaf evo = this.pk;
+		if (evo == null)
+		{
+			evo = EvoTypesLeaf.managedInstance(this, EvoType3ReadOnlyTypesAFinder.pk());
+			this.pk = evo;
+		}
+
+		return evo;
+	}
+
+	public void copyPk(EvoTypesLeaf pk)
+	{
+		this.ensureSetAttributeAllowed();
+		this.setPkBooleanAttribute(pk.getBooleanAttribute());
+		this.setPkByteAttribute(pk.getByteAttribute());
+		this.setPkCharAttribute(pk.getCharAttribute());
+		this.setPkDateAttribute(pk.getDateAttribute());
+		this.setPkDoubleAttribute(pk.getDoubleAttribute());
+		this.setPkFloatAttribute(pk.getFloatAttribute());
+		this.setPkIntAttribute(pk.getIntAttribute());
+		this.setPkLongAttribute(pk.getLongAttribute());
+		this.setPkShortAttribute(pk.getShortAttribute());
+		this.setPkStringAttribute(pk.getStringAttribute());
+		this.setPkTimestampAttribute(pk.getTimestampAttribute());
+		this.setPkBigDecimalAttribute(pk.getBigDecimalAttribute());
+	}
+
+	public EvoTypesRoot getRootEvo()
+	{
+		EvoTypesRoot evo = this.rootEvo;
+		if (evo == null)
+		{
+			evo = EvoTypesRoot.managedInstance(this, EvoType3ReadOnlyTypesAFinder.rootEvo());
+			this.rootEvo = evo;
+		}
+
+		return evo;
+	}
+
+	public void copyRootEvo(EvoTypesRoot rootEvo)
+	{
+		this.ensureSetAttributeAllowed();
+		this.setRootEvoBooleanAttribute(rootEvo.getBooleanAttribute());
+		this.setRootEvoByteAttribute(rootEvo.getByteAttribute());
+		this.setRootEvoCharAttribute(rootEvo.getCharAttribute());
+		this.setRootEvoDateAttribute(rootEvo.getDateAttribute());
+		this.setRootEvoDoubleAttribute(rootEvo.getDoubleAttribute());
+		this.setRootEvoFloatAttribute(rootEvo.getFloatAttribute());
+		this.setRootEvoIntAttribute(rootEvo.getIntAttribute());
+		this.setRootEvoLongAttribute(rootEvo.getLongAttribute());
+		this.setRootEvoShortAttribute(rootEvo.getShortAttribute());
+		this.setRootEvoStringAttribute(rootEvo.getStringAttribute());
+		this.setRootEvoTimestampAttribute(rootEvo.getTimestampAttribute());
+		this.setRootEvoBigDecimalAttribute(rootEvo.getBigDecimalAttribute());
+		this.setRootEvoNestedEvoBooleanAttribute(rootEvo.getNestedEvo().getBooleanAttribute());
+		this.setRootEvoNestedEvoByteAttribute(rootEvo.getNestedEvo().getByteAttribute());
+		this.setRootEvoNestedEvoCharAttribute(rootEvo.getNestedEvo().getCharAttribute());
+		this.setRootEvoNestedEvoDateAttribute(rootEvo.getNestedEvo().getDateAttribute());
+		this.setRootEvoNestedEvoDoubleAttribute(rootEvo.getNestedEvo().getDoubleAttribute());
+		this.setRootEvoNestedEvoFloatAttribute(rootEvo.getNestedEvo().getFloatAttribute());
+		this.setRootEvoNestedEvoIntAttribute(rootEvo.getNestedEvo().getIntAttribute());
+		this.setRootEvoNestedEvoLongAttribute(rootEvo.getNestedEvo().getLongAttribute());
+		this.setRootEvoNestedEvoShortAttribute(rootEvo.getNestedEvo().getShortAttribute());
+		this.setRootEvoNestedEvoStringAttribute(rootEvo.getNestedEvo().getStringAttribute());
+		this.setRootEvoNestedEvoTimestampAttribute(rootEvo.getNestedEvo().getTimestampAttribute());
+		this.setRootEvoNestedEvoBigDecimalAttribute(rootEvo.getNestedEvo().getBigDecimalAttribute());
+		this.setRootEvoNestedEvoLeafEvoBooleanAttribute(rootEvo.getNestedEvo().getLeafEvo().getBooleanAttribute());
+		this.setRootEvoNestedEvoLeafEvoByteAttribute(rootEvo.getNestedEvo().getLeafEvo().getByteAttribute());
+		this.setRootEvoNestedEvoLeafEvoCharAttribute(rootEvo.getNestedEvo().getLeafEvo().getCharAttribute());
+		this.setRootEvoNestedEvoLeafEvoDateAttribute(rootEvo.getNestedEvo().getLeafEvo().getDateAttribute());
+		this.setRootEvoNestedEvoLeafEvoDoubleAttribute(rootEvo.getNestedEvo().getLeafEvo().getDoubleAttribute());
+		this.setRootEvoNestedEvoLeafEvoFloatAttribute(rootEvo.getNestedEvo().getLeafEvo().getFloatAttribute());
+		this.setRootEvoNestedEvoLeafEvoIntAttribute(rootEvo.getNestedEvo().getLeafEvo().getIntAttribute());
+		this.setRootEvoNestedEvoLeafEvoLongAttribute(rootEvo.getNestedEvo().getLeafEvo().getLongAttribute());
+		this.setRootEvoNestedEvoLeafEvoShortAttribute(rootEvo.getNestedEvo().getLeafEvo().getShortAttribute());
+		this.setRootEvoNestedEvoLeafEvoStringAttribute(rootEvo.getNestedEvo().getLeafEvo().getStringAttribute());
+		this.setRootEvoNestedEvoLeafEvoTimestampAttribute(rootEvo.getNestedEvo().getLeafEvo().getTimestampAttribute());
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(rootEvo.getNestedEvo().getLeafEvo().getBigDecimalAttribute());
+	}
+
+	protected EvoTypesNested getRootEvoNestedEvo()
+	{
+		EvoTypesNested evo = this.rootEvoNestedEvo;
+		if (evo == null)
+		{
+			evo = EvoTypesNested.managedInstance(this, EvoType3ReadOnlyTypesAFinder.rootEvoNestedEvo());
+			this.rootEvoNestedEvo = evo;
+		}
+
+		return evo;
+	}
+
+	protected void copyRootEvoNestedEvo(EvoTypesNested nestedEvo)
+	{
+		this.ensureSetAttributeAllowed();
+		this.setRootEvoNestedEvoBooleanAttribute(nestedEvo.getBooleanAttribute());
+		this.setRootEvoNestedEvoByteAttribute(nestedEvo.getByteAttribute());
+		this.setRootEvoNestedEvoCharAttribute(nestedEvo.getCharAttribute());
+		this.setRootEvoNestedEvoDateAttribute(nestedEvo.getDateAttribute());
+		this.setRootEvoNestedEvoDoubleAttribute(nestedEvo.getDoubleAttribute());
+		this.setRootEvoNestedEvoFloatAttribute(nestedEvo.getFloatAttribute());
+		this.setRootEvoNestedEvoIntAttribute(nestedEvo.getIntAttribute());
+		this.setRootEvoNestedEvoLongAttribute(nestedEvo.getLongAttribute());
+		this.setRootEvoNestedEvoShortAttribute(nestedEvo.getShortAttribute());
+		this.setRootEvoNestedEvoStringAttribute(nestedEvo.getStringAttribute());
+		this.setRootEvoNestedEvoTimestampAttribute(nestedEvo.getTimestampAttribute());
+		this.setRootEvoNestedEvoBigDecimalAttribute(nestedEvo.getBigDecimalAttribute());
+		this.setRootEvoNestedEvoLeafEvoBooleanAttribute(nestedEvo.getLeafEvo().getBooleanAttribute());
+		this.setRootEvoNestedEvoLeafEvoByteAttribute(nestedEvo.getLeafEvo().getByteAttribute());
+		this.setRootEvoNestedEvoLeafEvoCharAttribute(nestedEvo.getLeafEvo().getCharAttribute());
+		this.setRootEvoNestedEvoLeafEvoDateAttribute(nestedEvo.getLeafEvo().getDateAttribute());
+		this.setRootEvoNestedEvoLeafEvoDoubleAttribute(nestedEvo.getLeafEvo().getDoubleAttribute());
+		this.setRootEvoNestedEvoLeafEvoFloatAttribute(nestedEvo.getLeafEvo().getFloatAttribute());
+		this.setRootEvoNestedEvoLeafEvoIntAttribute(nestedEvo.getLeafEvo().getIntAttribute());
+		this.setRootEvoNestedEvoLeafEvoLongAttribute(nestedEvo.getLeafEvo().getLongAttribute());
+		this.setRootEvoNestedEvoLeafEvoShortAttribute(nestedEvo.getLeafEvo().getShortAttribute());
+		this.setRootEvoNestedEvoLeafEvoStringAttribute(nestedEvo.getLeafEvo().getStringAttribute());
+		this.setRootEvoNestedEvoLeafEvoTimestampAttribute(nestedEvo.getLeafEvo().getTimestampAttribute());
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(nestedEvo.getLeafEvo().getBigDecimalAttribute());
+	}
+
+	protected EvoTypesLeaf getRootEvoNestedEvoLeafEvo()
+	{
+		EvoTypesLeaf evo = this.rootEvoNestedEvoLeafEvo;
+		if (evo == null)
+		{
+			evo = EvoTypesLeaf.managedInstance(this, EvoType3ReadOnlyTypesAFinder.rootEvoNestedEvoLeafEvo());
+			this.rootEvoNestedEvoLeafEvo = evo;
+		}
+
+		return evo;
+	}
+
+	protected void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf leafEvo)
+	{
+		this.ensureSetAttributeAllowed();
+		this.setRootEvoNestedEvoLeafEvoBooleanAttribute(leafEvo.getBooleanAttribute());
+		this.setRootEvoNestedEvoLeafEvoByteAttribute(leafEvo.getByteAttribute());
+		this.setRootEvoNestedEvoLeafEvoCharAttribute(leafEvo.getCharAttribute());
+		this.setRootEvoNestedEvoLeafEvoDateAttribute(leafEvo.getDateAttribute());
+		this.setRootEvoNestedEvoLeafEvoDoubleAttribute(leafEvo.getDoubleAttribute());
+		this.setRootEvoNestedEvoLeafEvoFloatAttribute(leafEvo.getFloatAttribute());
+		this.setRootEvoNestedEvoLeafEvoIntAttribute(leafEvo.getIntAttribute());
+		this.setRootEvoNestedEvoLeafEvoLongAttribute(leafEvo.getLongAttribute());
+		this.setRootEvoNestedEvoLeafEvoShortAttribute(leafEvo.getShortAttribute());
+		this.setRootEvoNestedEvoLeafEvoStringAttribute(leafEvo.getStringAttribute());
+		this.setRootEvoNestedEvoLeafEvoTimestampAttribute(leafEvo.getTimestampAttribute());
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(leafEvo.getBigDecimalAttribute());
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		EvoType3ReadOnlyTypesAData data = new EvoType3ReadOnlyTypesAData();
+		((EvoType3ReadOnlyTypesData)super.zGetCurrentData()).copyInto(data, false);
+		data.setBooleanAttribute(booleanAttribute);
+		data.setByteAttribute(byteAttribute);
+		data.setCharAttribute(charAttribute);
+		data.setDateAttribute(dateAttribute);
+		data.setDoubleAttribute(doubleAttribute);
+		data.setFloatAttribute(floatAttribute);
+		data.setIntAttribute(intAttribute);
+		data.setLongAttribute(longAttribute);
+		data.setRootEvoBigDecimalAttribute(rootEvoBigDecimalAttribute);
+		data.setRootEvoBooleanAttribute(rootEvoBooleanAttribute);
+		data.setRootEvoByteAttribute(rootEvoByteAttribute);
+		data.setRootEvoCharAttribute(rootEvoCharAttribute);
+		data.setRootEvoDateAttribute(rootEvoDateAttribute);
+		data.setRootEvoDoubleAttribute(rootEvoDoubleAttribute);
+		data.setRootEvoFloatAttribute(rootEvoFloatAttribute);
+		data.setRootEvoIntAttribute(rootEvoIntAttribute);
+		data.setRootEvoLongAttribute(rootEvoLongAttribute);
+		data.setRootEvoNestedEvoBigDecimalAttribute(rootEvoNestedEvoBigDecimalAttribute);
+		data.setRootEvoNestedEvoBooleanAttribute(rootEvoNestedEvoBooleanAttribute);
+		data.setRootEvoNestedEvoByteAttribute(rootEvoNestedEvoByteAttribute);
+		data.setRootEvoNestedEvoCharAttribute(rootEvoNestedEvoCharAttribute);
+		data.setRootEvoNestedEvoDateAttribute(rootEvoNestedEvoDateAttribute);
+		data.setRootEvoNestedEvoDoubleAttribute(rootEvoNestedEvoDoubleAttribute);
+		data.setRootEvoNestedEvoFloatAttribute(rootEvoNestedEvoFloatAttribute);
+		data.setRootEvoNestedEvoIntAttribute(rootEvoNestedEvoIntAttribute);
+		data.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+		data.setRootEvoNestedEvoLeafEvoBooleanAttribute(rootEvoNestedEvoLeafEvoBooleanAttribute);
+		data.setRootEvoNestedEvoLeafEvoByteAttribute(rootEvoNestedEvoLeafEvoByteAttribute);
+		data.setRootEvoNestedEvoLeafEvoCharAttribute(rootEvoNestedEvoLeafEvoCharAttribute);
+		data.setRootEvoNestedEvoLeafEvoDateAttribute(rootEvoNestedEvoLeafEvoDateAttribute);
+		data.setRootEvoNestedEvoLeafEvoDoubleAttribute(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		data.setRootEvoNestedEvoLeafEvoFloatAttribute(rootEvoNestedEvoLeafEvoFloatAttribute);
+		data.setRootEvoNestedEvoLeafEvoIntAttribute(rootEvoNestedEvoLeafEvoIntAttribute);
+		data.setRootEvoNestedEvoLeafEvoLongAttribute(rootEvoNestedEvoLeafEvoLongAttribute);
+		data.setRootEvoNestedEvoLeafEvoShortAttribute(rootEvoNestedEvoLeafEvoShortAttribute);
+		data.setRootEvoNestedEvoLeafEvoStringAttribute(rootEvoNestedEvoLeafEvoStringAttribute);
+		data.setRootEvoNestedEvoLeafEvoTimestampAttribute(rootEvoNestedEvoLeafEvoTimestampAttribute);
+		data.setRootEvoNestedEvoLongAttribute(rootEvoNestedEvoLongAttribute);
+		data.setRootEvoNestedEvoShortAttribute(rootEvoNestedEvoShortAttribute);
+		data.setRootEvoNestedEvoStringAttribute(rootEvoNestedEvoStringAttribute);
+		data.setRootEvoNestedEvoTimestampAttribute(rootEvoNestedEvoTimestampAttribute);
+		data.setRootEvoShortAttribute(rootEvoShortAttribute);
+		data.setRootEvoStringAttribute(rootEvoStringAttribute);
+		data.setRootEvoTimestampAttribute(rootEvoTimestampAttribute);
+		data.setShortAttribute(shortAttribute);
+		data.setStringAttribute(stringAttribute);
+		data.setTimestampAttribute(timestampAttribute);
+		data.zSetIsNullBits0a(this.isNullBits0a);
+		return data;
+	}
+
+	public EvoType3ReadOnlyTypesA getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		EvoType3ReadOnlyTypesAAbstract copy = (EvoType3ReadOnlyTypesAAbstract) EvoType3ReadOnlyTypesAFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (EvoType3ReadOnlyTypesA)copy;
+	}
+
+	protected void zSetFromEvoType3ReadOnlyTypesAData(EvoType3ReadOnlyTypesAData data)
+	{
+		this.setFromEvoType3ReadOnlyTypesAData(data);
+	}
+
+	public void setFromEvoType3ReadOnlyTypesAData(EvoType3ReadOnlyTypesAData data)
+	{
+		super.setFromEvoType3ReadOnlyTypesData(data);
+		booleanAttribute = data.isBooleanAttribute();
+		byteAttribute = data.getByteAttribute();
+		charAttribute = data.getCharAttribute();
+		dateAttribute = data.getDateAttribute();
+		doubleAttribute = data.getDoubleAttribute();
+		floatAttribute = data.getFloatAttribute();
+		intAttribute = data.getIntAttribute();
+		longAttribute = data.getLongAttribute();
+		rootEvoBigDecimalAttribute = data.getRootEvoBigDecimalAttribute();
+		rootEvoBooleanAttribute = data.isRootEvoBooleanAttribute();
+		rootEvoByteAttribute = data.getRootEvoByteAttribute();
+		rootEvoCharAttribute = data.getRootEvoCharAttribute();
+		rootEvoDateAttribute = data.getRootEvoDateAttribute();
+		rootEvoDoubleAttribute = data.getRootEvoDoubleAttribute();
+		rootEvoFloatAttribute = data.getRootEvoFloatAttribute();
+		rootEvoIntAttribute = data.getRootEvoIntAttribute();
+		rootEvoLongAttribute = data.getRootEvoLongAttribute();
+		rootEvoNestedEvoBigDecimalAttribute = data.getRootEvoNestedEvoBigDecimalAttribute();
+		rootEvoNestedEvoBooleanAttribute = data.isRootEvoNestedEvoBooleanAttribute();
+		rootEvoNestedEvoByteAttribute = data.getRootEvoNestedEvoByteAttribute();
+		rootEvoNestedEvoCharAttribute = data.getRootEvoNestedEvoCharAttribute();
+		rootEvoNestedEvoDateAttribute = data.getRootEvoNestedEvoDateAttribute();
+		rootEvoNestedEvoDoubleAttribute = data.getRootEvoNestedEvoDoubleAttribute();
+		rootEvoNestedEvoFloatAttribute = data.getRootEvoNestedEvoFloatAttribute();
+		rootEvoNestedEvoIntAttribute = data.getRootEvoNestedEvoIntAttribute();
+		rootEvoNestedEvoLeafEvoBigDecimalAttribute = data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+		rootEvoNestedEvoLeafEvoBooleanAttribute = data.isRootEvoNestedEvoLeafEvoBooleanAttribute();
+		rootEvoNestedEvoLeafEvoByteAttribute = data.getRootEvoNestedEvoLeafEvoByteAttribute();
+		rootEvoNestedEvoLeafEvoCharAttribute = data.getRootEvoNestedEvoLeafEvoCharAttribute();
+		rootEvoNestedEvoLeafEvoDateAttribute = data.getRootEvoNestedEvoLeafEvoDateAttribute();
+		rootEvoNestedEvoLeafEvoDoubleAttribute = data.getRootEvoNestedEvoLeafEvoDoubleAttribute();
+		rootEvoNestedEvoLeafEvoFloatAttribute = data.getRootEvoNestedEvoLeafEvoFloatAttribute();
+		rootEvoNestedEvoLeafEvoIntAttribute = data.getRootEvoNestedEvoLeafEvoIntAttribute();
+		rootEvoNestedEvoLeafEvoLongAttribute = data.getRootEvoNestedEvoLeafEvoLongAttribute();
+		rootEvoNestedEvoLeafEvoShortAttribute = data.getRootEvoNestedEvoLeafEvoShortAttribute();
+		rootEvoNestedEvoLeafEvoStringAttribute = data.getRootEvoNestedEvoLeafEvoStringAttribute();
+		rootEvoNestedEvoLeafEvoTimestampAttribute = data.getRootEvoNestedEvoLeafEvoTimestampAttribute();
+		rootEvoNestedEvoLongAttribute = data.getRootEvoNestedEvoLongAttribute();
+		rootEvoNestedEvoShortAttribute = data.getRootEvoNestedEvoShortAttribute();
+		rootEvoNestedEvoStringAttribute = data.getRootEvoNestedEvoStringAttribute();
+		rootEvoNestedEvoTimestampAttribute = data.getRootEvoNestedEvoTimestampAttribute();
+		rootEvoShortAttribute = data.getRootEvoShortAttribute();
+		rootEvoStringAttribute = data.getRootEvoStringAttribute();
+		rootEvoTimestampAttribute = data.getRootEvoTimestampAttribute();
+		shortAttribute = data.getShortAttribute();
+		stringAttribute = data.getStringAttribute();
+		timestampAttribute = data.getTimestampAttribute();
+		this.isNullBits0a = data.zGetIsNullBits0a();
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return EvoType3ReadOnlyTypesAFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromEvoType3ReadOnlyTypesAData((EvoType3ReadOnlyTypesAData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		if (isBooleanAttributeNull()) throwNullPrimitiveException("booleanAttribute");
+		return this.booleanAttribute;
+	}
+
+	public void setBooleanAttribute(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.booleanAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public byte getByteAttribute()
+	{
+		if (isByteAttributeNull()) throwNullPrimitiveException("byteAttribute");
+		return this.byteAttribute;
+	}
+
+	public void setByteAttribute(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.byteAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 1);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public char getCharAttribute()
+	{
+		if (isCharAttributeNull()) throwNullPrimitiveException("charAttribute");
+		return this.charAttribute;
+	}
+
+	public void setCharAttribute(char value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.charAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 2);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public Date getDateAttribute()
+	{
+		return this.dateAttribute;
+	}
+
+	public void setDateAttribute(java.util.Date value)
+	{
+		this.ensureSetAttributeAllowed();
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.dateAttribute = value;
+		}
+		else
+		{
+			this.dateAttribute = new java.sql.Date(value.getTime());
+		}
+
+		this.resetEmbeddedValueObjects();
+	}
+
+	public double getDoubleAttribute()
+	{
+		if (isDoubleAttributeNull()) throwNullPrimitiveException("doubleAttribute");
+		return this.doubleAttribute;
+	}
+
+	public void setDoubleAttribute(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.doubleAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 3);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public float getFloatAttribute()
+	{
+		if (isFloatAttributeNull()) throwNullPrimitiveException("floatAttribute");
+		return this.floatAttribute;
+	}
+
+	public void setFloatAttribute(float value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.floatAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 4);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public int getIntAttribute()
+	{
+		if (isIntAttributeNull()) throwNullPrimitiveException("intAttribute");
+		return this.intAttribute;
+	}
+
+	public void setIntAttribute(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.intAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 5);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public long getLongAttribute()
+	{
+		if (isLongAttributeNull()) throwNullPrimitiveException("longAttribute");
+		return this.longAttribute;
+	}
+
+	public void setLongAttribute(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.longAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 6);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected BigDecimal getRootEvoBigDecimalAttribute()
+	{
+		return this.rootEvoBigDecimalAttribute;
+	}
+
+	protected void setRootEvoBigDecimalAttribute(BigDecimal value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoBigDecimalAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoBooleanAttribute()
+	{
+		if (isRootEvoBooleanAttributeNull()) throwNullPrimitiveException("rootEvoBooleanAttribute");
+		return this.rootEvoBooleanAttribute;
+	}
+
+	protected void setRootEvoBooleanAttribute(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoBooleanAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 8);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected byte getRootEvoByteAttribute()
+	{
+		if (isRootEvoByteAttributeNull()) throwNullPrimitiveException("rootEvoByteAttribute");
+		return this.rootEvoByteAttribute;
+	}
+
+	protected void setRootEvoByteAttribute(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoByteAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 9);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected char getRootEvoCharAttribute()
+	{
+		if (isRootEvoCharAttributeNull()) throwNullPrimitiveException("rootEvoCharAttribute");
+		return this.rootEvoCharAttribute;
+	}
+
+	protected void setRootEvoCharAttribute(char value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoCharAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 10);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected Date getRootEvoDateAttribute()
+	{
+		return this.rootEvoDateAttribute;
+	}
+
+	protected void setRootEvoDateAttribute(java.util.Date value)
+	{
+		this.ensureSetAttributeAllowed();
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.rootEvoDateAttribute = value;
+		}
+		else
+		{
+			this.rootEvoDateAttribute = new java.sql.Date(value.getTime());
+		}
+
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected double getRootEvoDoubleAttribute()
+	{
+		if (isRootEvoDoubleAttributeNull()) throwNullPrimitiveException("rootEvoDoubleAttribute");
+		return this.rootEvoDoubleAttribute;
+	}
+
+	protected void setRootEvoDoubleAttribute(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoDoubleAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 11);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected float getRootEvoFloatAttribute()
+	{
+		if (isRootEvoFloatAttributeNull()) throwNullPrimitiveException("rootEvoFloatAttribute");
+		return this.rootEvoFloatAttribute;
+	}
+
+	protected void setRootEvoFloatAttribute(float value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoFloatAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 12);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected int getRootEvoIntAttribute()
+	{
+		if (isRootEvoIntAttributeNull()) throwNullPrimitiveException("rootEvoIntAttribute");
+		return this.rootEvoIntAttribute;
+	}
+
+	protected void setRootEvoIntAttribute(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoIntAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 13);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected long getRootEvoLongAttribute()
+	{
+		if (isRootEvoLongAttributeNull()) throwNullPrimitiveException("rootEvoLongAttribute");
+		return this.rootEvoLongAttribute;
+	}
+
+	protected void setRootEvoLongAttribute(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoLongAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 14);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected BigDecimal getRootEvoNestedEvoBigDecimalAttribute()
+	{
+		return this.rootEvoNestedEvoBigDecimalAttribute;
+	}
+
+	protected void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoBigDecimalAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttribute()
+	{
+		if (isRootEvoNestedEvoBooleanAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoBooleanAttribute");
+		return this.rootEvoNestedEvoBooleanAttribute;
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttribute(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoBooleanAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 16);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected byte getRootEvoNestedEvoByteAttribute()
+	{
+		if (isRootEvoNestedEvoByteAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoByteAttribute");
+		return this.rootEvoNestedEvoByteAttribute;
+	}
+
+	protected void setRootEvoNestedEvoByteAttribute(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoByteAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 17);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected char getRootEvoNestedEvoCharAttribute()
+	{
+		if (isRootEvoNestedEvoCharAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoCharAttribute");
+		return this.rootEvoNestedEvoCharAttribute;
+	}
+
+	protected void setRootEvoNestedEvoCharAttribute(char value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoCharAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 18);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected Date getRootEvoNestedEvoDateAttribute()
+	{
+		return this.rootEvoNestedEvoDateAttribute;
+	}
+
+	protected void setRootEvoNestedEvoDateAttribute(java.util.Date value)
+	{
+		this.ensureSetAttributeAllowed();
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.rootEvoNestedEvoDateAttribute = value;
+		}
+		else
+		{
+			this.rootEvoNestedEvoDateAttribute = new java.sql.Date(value.getTime());
+		}
+
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected double getRootEvoNestedEvoDoubleAttribute()
+	{
+		if (isRootEvoNestedEvoDoubleAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoDoubleAttribute");
+		return this.rootEvoNestedEvoDoubleAttribute;
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttribute(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoDoubleAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 19);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected float getRootEvoNestedEvoFloatAttribute()
+	{
+		if (isRootEvoNestedEvoFloatAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoFloatAttribute");
+		return this.rootEvoNestedEvoFloatAttribute;
+	}
+
+	protected void setRootEvoNestedEvoFloatAttribute(float value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoFloatAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 20);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected int getRootEvoNestedEvoIntAttribute()
+	{
+		if (isRootEvoNestedEvoIntAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoIntAttribute");
+		return this.rootEvoNestedEvoIntAttribute;
+	}
+
+	protected void setRootEvoNestedEvoIntAttribute(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoIntAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 21);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected BigDecimal getRootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoBigDecimalAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoBigDecimalAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		if (isRootEvoNestedEvoLeafEvoBooleanAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoLeafEvoBooleanAttribute");
+		return this.rootEvoNestedEvoLeafEvoBooleanAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoBooleanAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 24);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected byte getRootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		if (isRootEvoNestedEvoLeafEvoByteAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoLeafEvoByteAttribute");
+		return this.rootEvoNestedEvoLeafEvoByteAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttribute(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoByteAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 25);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected char getRootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		if (isRootEvoNestedEvoLeafEvoCharAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoLeafEvoCharAttribute");
+		return this.rootEvoNestedEvoLeafEvoCharAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttribute(char value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoCharAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 26);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected Date getRootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoDateAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDateAttribute(java.util.Date value)
+	{
+		this.ensureSetAttributeAllowed();
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.rootEvoNestedEvoLeafEvoDateAttribute = value;
+		}
+		else
+		{
+			this.rootEvoNestedEvoLeafEvoDateAttribute = new java.sql.Date(value.getTime());
+		}
+
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected double getRootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		if (isRootEvoNestedEvoLeafEvoDoubleAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoLeafEvoDoubleAttribute");
+		return this.rootEvoNestedEvoLeafEvoDoubleAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttribute(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoDoubleAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 27);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected float getRootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		if (isRootEvoNestedEvoLeafEvoFloatAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoLeafEvoFloatAttribute");
+		return this.rootEvoNestedEvoLeafEvoFloatAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttribute(float value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoFloatAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 28);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected int getRootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		if (isRootEvoNestedEvoLeafEvoIntAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoLeafEvoIntAttribute");
+		return this.rootEvoNestedEvoLeafEvoIntAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttribute(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoIntAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 29);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected long getRootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		if (isRootEvoNestedEvoLeafEvoLongAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoLeafEvoLongAttribute");
+		return this.rootEvoNestedEvoLeafEvoLongAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttribute(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoLongAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 30);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected short getRootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		if (isRootEvoNestedEvoLeafEvoShortAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoLeafEvoShortAttribute");
+		return this.rootEvoNestedEvoLeafEvoShortAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttribute(short value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoShortAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1L << 31);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected String getRootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoStringAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoStringAttribute(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType3ReadOnlyTypesAFinder.isFullCache());
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected Timestamp getRootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		return this.rootEvoNestedEvoLeafEvoTimestampAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLeafEvoTimestampAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected long getRootEvoNestedEvoLongAttribute()
+	{
+		if (isRootEvoNestedEvoLongAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoLongAttribute");
+		return this.rootEvoNestedEvoLongAttribute;
+	}
+
+	protected void setRootEvoNestedEvoLongAttribute(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoLongAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 22);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected short getRootEvoNestedEvoShortAttribute()
+	{
+		if (isRootEvoNestedEvoShortAttributeNull()) throwNullPrimitiveException("rootEvoNestedEvoShortAttribute");
+		return this.rootEvoNestedEvoShortAttribute;
+	}
+
+	protected void setRootEvoNestedEvoShortAttribute(short value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoShortAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 23);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected String getRootEvoNestedEvoStringAttribute()
+	{
+		return this.rootEvoNestedEvoStringAttribute;
+	}
+
+	protected void setRootEvoNestedEvoStringAttribute(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType3ReadOnlyTypesAFinder.isFullCache());
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected Timestamp getRootEvoNestedEvoTimestampAttribute()
+	{
+		return this.rootEvoNestedEvoTimestampAttribute;
+	}
+
+	protected void setRootEvoNestedEvoTimestampAttribute(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoNestedEvoTimestampAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected short getRootEvoShortAttribute()
+	{
+		if (isRootEvoShortAttributeNull()) throwNullPrimitiveException("rootEvoShortAttribute");
+		return this.rootEvoShortAttribute;
+	}
+
+	protected void setRootEvoShortAttribute(short value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoShortAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 15);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected String getRootEvoStringAttribute()
+	{
+		return this.rootEvoStringAttribute;
+	}
+
+	protected void setRootEvoStringAttribute(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType3ReadOnlyTypesAFinder.isFullCache());
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected Timestamp getRootEvoTimestampAttribute()
+	{
+		return this.rootEvoTimestampAttribute;
+	}
+
+	protected void setRootEvoTimestampAttribute(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.rootEvoTimestampAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	public short getShortAttribute()
+	{
+		if (isShortAttributeNull()) throwNullPrimitiveException("shortAttribute");
+		return this.shortAttribute;
+	}
+
+	public void setShortAttribute(short value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.shortAttribute = value;
+		isNullBits0a = isNullBits0a & ~( 1 << 7);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public String getStringAttribute()
+	{
+		return this.stringAttribute;
+	}
+
+	public void setStringAttribute(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.stringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType3ReadOnlyTypesAFinder.isFullCache());
+		this.resetEmbeddedValueObjects();
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		return this.timestampAttribute;
+	}
+
+	public void setTimestampAttribute(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.timestampAttribute = TimestampPool.getInstance().getOrAddToCache(value, EvoType3ReadOnlyTypesAFinder.isFullCache());
+		this.resetEmbeddedValueObjects();
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setByteAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 1);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setCharAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 2);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 3);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setFloatAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 4);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setIntAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 5);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setLongAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 6);
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void setShortAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 7);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoBooleanAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 8);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoByteAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 9);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoCharAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 10);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoDoubleAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 11);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoFloatAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 12);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoIntAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 13);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoLongAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 14);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoShortAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 15);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 16);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoByteAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 17);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoCharAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 18);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 19);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 20);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoIntAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 21);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLongAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 22);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoShortAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 23);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 24);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 25);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 26);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 27);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 28);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 29);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1 << 30);
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (isNullBits0a | 1L << 31);
+		this.resetEmbeddedValueObjects();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public Order getRootEvoOrder()
+	{
+		Order _result = null;
+		if (_relationships != null)
+		{
+			_result = (Order)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isRootEvoIntAttributeNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forrootEvoOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_result = OrderFinder.zFindOneForRelationship(zGetRootEvoOrderOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public Order getRootEvoOrderWithDate(Timestamp date)
+	{
+		Order _result = null;
+		if (_result == null)
+		{
+			if (!this.isRootEvoIntAttributeNull())
+			{
+				{
+					_result = OrderFinder.zFindOneForRelationship(zGetRootEvoOrderWithDateOperation(date));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatus getRootEvoNestedEvoOrderStatus()
+	{
+		OrderStatus _result = null;
+		if (_relationships != null)
+		{
+			_result = (OrderStatus)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isRootEvoNestedEvoIntAttributeNull())
+			{
+				_portal = OrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forrootEvoNestedEvoOrderStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatus) _related;
+				if (_related == null)
+				{
+					_result = OrderStatusFinder.zFindOneForRelationship(zGetRootEvoNestedEvoOrderStatusOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatus getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		OrderStatus _result = null;
+		if (_result == null)
+		{
+			if (!this.isRootEvoNestedEvoIntAttributeNull())
+			{
+				{
+					_result = OrderStatusFinder.zFindOneForRelationship(zGetRootEvoNestedEvoOrderStatusWithStatusOperation(status));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	public void setRootEvoOrder(Order rootEvoOrder)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = rootEvoOrder;
+		if (rootEvoOrder == null)
+		{
+			this.setRootEvoIntAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoIntAttribute(rootEvoOrder.getOrderId());
+		}
+	}
+
+	public void setRootEvoNestedEvoOrderStatus(OrderStatus rootEvoNestedEvoOrderStatus)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = rootEvoNestedEvoOrderStatus;
+		if (rootEvoNestedEvoOrderStatus == null)
+		{
+			this.setRootEvoNestedEvoIntAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoIntAttribute(rootEvoNestedEvoOrderStatus.getOrderId());
+		}
+	}
+
+	public Operation zGetRootEvoOrderOperation()
+	{
+		EvoType3ReadOnlyTypesAAbstract _data = this;
+		return OrderFinder.orderId().eq(_data.getRootEvoIntAttribute());
+	}
+
+	public Operation zGetRootEvoOrderWithDateOperation(Timestamp date)
+	{
+		EvoType3ReadOnlyTypesAAbstract _data = this;
+		return OrderFinder.orderId().eq(_data.getRootEvoIntAttribute()).and(OrderFinder.orderDate().eq(date));
+	}
+
+	public Operation zGetRootEvoNestedEvoOrderStatusOperation()
+	{
+		EvoType3ReadOnlyTypesAAbstract _data = this;
+		return OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute());
+	}
+
+	public Operation zGetRootEvoNestedEvoOrderStatusWithStatusOperation(int status)
+	{
+		EvoType3ReadOnlyTypesAAbstract _data = this;
+		return OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute()).and(OrderStatusFinder.status().eq(status));
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		if (super.zChanged(newData)) return true;
+		final EvoType3ReadOnlyTypesAData evoType3ReadOnlyTypesAData = (EvoType3ReadOnlyTypesAData) newData;
+		if (isNullBits0a != evoType3ReadOnlyTypesAData.zGetIsNullBits0a())
+		{
+			return true;
+		}
+
+		if (booleanAttribute != evoType3ReadOnlyTypesAData.isBooleanAttribute())
+		{
+			return true;
+		}
+
+		if (byteAttribute != evoType3ReadOnlyTypesAData.getByteAttribute())
+		{
+			return true;
+		}
+
+		if (charAttribute != evoType3ReadOnlyTypesAData.getCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isDateAttributeNull() ? !getDateAttribute().equals(evoType3ReadOnlyTypesAData.getDateAttribute()) : !evoType3ReadOnlyTypesAData.isDateAttributeNull())
+		{
+			return true;
+		}
+
+		if (doubleAttribute != evoType3ReadOnlyTypesAData.getDoubleAttribute())
+		{
+			return true;
+		}
+
+		if (floatAttribute != evoType3ReadOnlyTypesAData.getFloatAttribute())
+		{
+			return true;
+		}
+
+		if (intAttribute != evoType3ReadOnlyTypesAData.getIntAttribute())
+		{
+			return true;
+		}
+
+		if (longAttribute != evoType3ReadOnlyTypesAData.getLongAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoBigDecimalAttributeNull() ? !getRootEvoBigDecimalAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoBigDecimalAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoBigDecimalAttributeNull())
+		{
+			return true;
+		}
+
+		if (rootEvoBooleanAttribute != evoType3ReadOnlyTypesAData.isRootEvoBooleanAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoByteAttribute != evoType3ReadOnlyTypesAData.getRootEvoByteAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoCharAttribute != evoType3ReadOnlyTypesAData.getRootEvoCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoDateAttributeNull() ? !getRootEvoDateAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoDateAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoDateAttributeNull())
+		{
+			return true;
+		}
+
+		if (rootEvoDoubleAttribute != evoType3ReadOnlyTypesAData.getRootEvoDoubleAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoFloatAttribute != evoType3ReadOnlyTypesAData.getRootEvoFloatAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoIntAttribute != evoType3ReadOnlyTypesAData.getRootEvoIntAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoLongAttribute != evoType3ReadOnlyTypesAData.getRootEvoLongAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoBigDecimalAttributeNull() ? !getRootEvoNestedEvoBigDecimalAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoNestedEvoBigDecimalAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoNestedEvoBigDecimalAttributeNull())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoBooleanAttribute != evoType3ReadOnlyTypesAData.isRootEvoNestedEvoBooleanAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoByteAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoByteAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoCharAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoDateAttributeNull() ? !getRootEvoNestedEvoDateAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoNestedEvoDateAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoNestedEvoDateAttributeNull())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoDoubleAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoDoubleAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoFloatAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoFloatAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoIntAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoIntAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull() ? !getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoBigDecimalAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoLeafEvoBooleanAttribute != evoType3ReadOnlyTypesAData.isRootEvoNestedEvoLeafEvoBooleanAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoLeafEvoByteAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoByteAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoLeafEvoCharAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoCharAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoLeafEvoDateAttributeNull() ? !getRootEvoNestedEvoLeafEvoDateAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoDateAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoNestedEvoLeafEvoDateAttributeNull())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoLeafEvoDoubleAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoDoubleAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoLeafEvoFloatAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoFloatAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoLeafEvoIntAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoIntAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoLeafEvoLongAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoLongAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoLeafEvoShortAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoLeafEvoStringAttributeNull() ? !getRootEvoNestedEvoLeafEvoStringAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoStringAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoNestedEvoLeafEvoStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoLeafEvoTimestampAttributeNull() ? !getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLeafEvoTimestampAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoNestedEvoLeafEvoTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoLongAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoLongAttribute())
+		{
+			return true;
+		}
+
+		if (rootEvoNestedEvoShortAttribute != evoType3ReadOnlyTypesAData.getRootEvoNestedEvoShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoStringAttributeNull() ? !getRootEvoNestedEvoStringAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoNestedEvoStringAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoNestedEvoStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isRootEvoNestedEvoTimestampAttributeNull() ? !getRootEvoNestedEvoTimestampAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoNestedEvoTimestampAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoNestedEvoTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		if (rootEvoShortAttribute != evoType3ReadOnlyTypesAData.getRootEvoShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isRootEvoStringAttributeNull() ? !getRootEvoStringAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoStringAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isRootEvoTimestampAttributeNull() ? !getRootEvoTimestampAttribute().equals(evoType3ReadOnlyTypesAData.getRootEvoTimestampAttribute()) : !evoType3ReadOnlyTypesAData.isRootEvoTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		if (shortAttribute != evoType3ReadOnlyTypesAData.getShortAttribute())
+		{
+			return true;
+		}
+
+		if (!isStringAttributeNull() ? !getStringAttribute().equals(evoType3ReadOnlyTypesAData.getStringAttribute()) : !evoType3ReadOnlyTypesAData.isStringAttributeNull())
+		{
+			return true;
+		}
+
+		if (!isTimestampAttributeNull() ? !getTimestampAttribute().equals(evoType3ReadOnlyTypesAData.getTimestampAttribute()) : !evoType3ReadOnlyTypesAData.isTimestampAttributeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+		out.writeObject("com.gs.fw.common.mithra.test.domain.evo.EvoType3ReadOnlyTypesAData");
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		super.zReadObject(in);
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		if (fullData)
+		{
+			this.isNullBits0a = in.readLong();
+			this.booleanAttribute = in.readBoolean();
+			this.byteAttribute = in.readByte();
+			this.charAttribute = in.readChar();
+			this.dateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.doubleAttribute = in.readDouble();
+			this.floatAttribute = in.readFloat();
+			this.intAttribute = in.readInt();
+			this.longAttribute = in.readLong();
+			this.rootEvoBigDecimalAttribute = (BigDecimal)in.readObject();
+			this.rootEvoBooleanAttribute = in.readBoolean();
+			this.rootEvoByteAttribute = in.readByte();
+			this.rootEvoCharAttribute = in.readChar();
+			this.rootEvoDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.rootEvoDoubleAttribute = in.readDouble();
+			this.rootEvoFloatAttribute = in.readFloat();
+			this.rootEvoIntAttribute = in.readInt();
+			this.rootEvoLongAttribute = in.readLong();
+			this.rootEvoNestedEvoBigDecimalAttribute = (BigDecimal)in.readObject();
+			this.rootEvoNestedEvoBooleanAttribute = in.readBoolean();
+			this.rootEvoNestedEvoByteAttribute = in.readByte();
+			this.rootEvoNestedEvoCharAttribute = in.readChar();
+			this.rootEvoNestedEvoDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.rootEvoNestedEvoDoubleAttribute = in.readDouble();
+			this.rootEvoNestedEvoFloatAttribute = in.readFloat();
+			this.rootEvoNestedEvoIntAttribute = in.readInt();
+			this.rootEvoNestedEvoLeafEvoBigDecimalAttribute = (BigDecimal)in.readObject();
+			this.rootEvoNestedEvoLeafEvoBooleanAttribute = in.readBoolean();
+			this.rootEvoNestedEvoLeafEvoByteAttribute = in.readByte();
+			this.rootEvoNestedEvoLeafEvoCharAttribute = in.readChar();
+			this.rootEvoNestedEvoLeafEvoDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.rootEvoNestedEvoLeafEvoDoubleAttribute = in.readDouble();
+			this.rootEvoNestedEvoLeafEvoFloatAttribute = in.readFloat();
+			this.rootEvoNestedEvoLeafEvoIntAttribute = in.readInt();
+			this.rootEvoNestedEvoLeafEvoLongAttribute = in.readLong();
+			this.rootEvoNestedEvoLeafEvoShortAttribute = in.readShort();
+			this.rootEvoNestedEvoLeafEvoStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType3ReadOnlyTypesAFinder.isFullCache());
+			this.rootEvoNestedEvoLeafEvoTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+			this.rootEvoNestedEvoLongAttribute = in.readLong();
+			this.rootEvoNestedEvoShortAttribute = in.readShort();
+			this.rootEvoNestedEvoStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType3ReadOnlyTypesAFinder.isFullCache());
+			this.rootEvoNestedEvoTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+			this.rootEvoShortAttribute = in.readShort();
+			this.rootEvoStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType3ReadOnlyTypesAFinder.isFullCache());
+			this.rootEvoTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+			this.shortAttribute = in.readShort();
+			this.stringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType3ReadOnlyTypesAFinder.isFullCache());
+			this.timestampAttribute = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), EvoType3ReadOnlyTypesAFinder.isFullCache(), EvoType3ReadOnlyTypesAFinder.isOffHeap());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = EvoType3ReadOnlyTypesAFinder.pkBooleanAttribute().eq(this.isPkBooleanAttribute());
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkByteAttribute().eq(this.getPkByteAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkCharAttribute().eq(this.getPkCharAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkDateAttribute().eq(this.getPkDateAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkDoubleAttribute().eq(this.getPkDoubleAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkFloatAttribute().eq(this.getPkFloatAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkIntAttribute().eq(this.getPkIntAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkLongAttribute().eq(this.getPkLongAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkShortAttribute().eq(this.getPkShortAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkStringAttribute().eq(this.getPkStringAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkTimestampAttribute().eq(this.getPkTimestampAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesAFinder.pkBigDecimalAttribute().eq(this.getPkBigDecimalAttribute()));
+			return EvoType3ReadOnlyTypesAFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+		this.pk = null;
+		this.rootEvo = null;
+		this.rootEvoNestedEvo = null;
+		this.rootEvoNestedEvoLeafEvo = null;
+	}
+}
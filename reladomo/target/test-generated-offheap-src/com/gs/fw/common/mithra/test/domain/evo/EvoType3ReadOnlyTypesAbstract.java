@@ -0,0 +1,531 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class EvoType3ReadOnlyTypesAbstract
+implements MithraObject, Serializable
+{
+	protected byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private BigDecimal pkBigDecimalAttribute;
+	private boolean pkBooleanAttribute;
+	private byte pkByteAttribute;
+	private char pkCharAttribute;
+	private Date pkDateAttribute;
+	private double pkDoubleAttribute;
+	private float pkFloatAttribute;
+	private int pkIntAttribute;
+	private long pkLongAttribute;
+	private short pkShortAttribute;
+	private String pkStringAttribute;
+	private Timestamp pkTimestampAttribute;
+	private EvoTypesLeaf pk;
+	protected boolean isPkBigDecimalAttributeNull()
+	{
+		return this.getPkBigDecimalAttribute() == null;
+	}
+
+	protected boolean isPkBooleanAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkByteAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkCharAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkDateAttributeNull()
+	{
+		return this.getPkDateAttribute() == null;
+	}
+
+	protected boolean isPkDoubleAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkFloatAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkIntAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkLongAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkShortAttributeNull()
+	{
+		return false;
+	}
+
+	protected boolean isPkStringAttributeNull()
+	{
+		return this.getPkStringAttribute() == null;
+	}
+
+	protected boolean isPkTimestampAttributeNull()
+	{
+		return this.getPkTimestampAttribute() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.pkBigDecimalAttribute);
+		out.writeBoolean(this.pkBooleanAttribute);
+		out.writeByte(this.pkByteAttribute);
+		out.writeChar(this.pkCharAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.pkDateAttribute);
+		out.writeDouble(this.pkDoubleAttribute);
+		out.writeFloat(this.pkFloatAttribute);
+		out.writeInt(this.pkIntAttribute);
+		out.writeLong(this.pkLongAttribute);
+		out.writeShort(this.pkShortAttribute);
+		out.writeObject(this.pkStringAttribute);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.pkTimestampAttribute);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public EvoTypesLeaf getPk()
+	{
+		EvoTypesLeaf evo = this.pk;
+		if (evo == null)
+		{
+			evo = EvoTypesLeaf.managedInstance(this, EvoType3ReadOnlyTypesFinder.pk());
+			this.pk = evo;
+		}
+
+		return evo;
+	}
+
+	public void copyPk(EvoTypesLeaf pk)
+	{
+		this.ensureSetAttributeAllowed();
+		this.setPkBooleanAttribute(pk.getBooleanAttribute());
+		this.setPkByteAttribute(pk.getByteAttribute());
+		this.setPkCharAttribute(pk.getCharAttribute());
+		this.setPkDateAttribute(pk.getDateAttribute());
+		this.setPkDoubleAttribute(pk.getDoubleAttribute());
+		this.setPkFloatAttribute(pk.getFloatAttribute());
+		this.setPkIntAttribute(pk.getIntAttribute());
+		this.setPkLongAttribute(pk.getLongAttribute());
+		this.setPkShortAttribute(pk.getShortAttribute());
+		this.setPkStringAttribute(pk.getStringAttribute());
+		this.setPkTimestampAttribute(pk.getTimestampAttribute());
+		this.setPkBigDecimalAttribute(pk.getBigDecimalAttribute());
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		EvoType3ReadOnlyTypesData data = new EvoType3ReadOnlyTypesData();
+		data.setPkBigDecimalAttribute(pkBigDecimalAttribute);
+		data.setPkBooleanAttribute(pkBooleanAttribute);
+		data.setPkByteAttribute(pkByteAttribute);
+		data.setPkCharAttribute(pkCharAttribute);
+		data.setPkDateAttribute(pkDateAttribute);
+		data.setPkDoubleAttribute(pkDoubleAttribute);
+		data.setPkFloatAttribute(pkFloatAttribute);
+		data.setPkIntAttribute(pkIntAttribute);
+		data.setPkLongAttribute(pkLongAttribute);
+		data.setPkShortAttribute(pkShortAttribute);
+		data.setPkStringAttribute(pkStringAttribute);
+		data.setPkTimestampAttribute(pkTimestampAttribute);
+		return data;
+	}
+
+	public EvoType3ReadOnlyTypes getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		EvoType3ReadOnlyTypesAbstract copy = (EvoType3ReadOnlyTypesAbstract) EvoType3ReadOnlyTypesFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (EvoType3ReadOnlyTypes)copy;
+	}
+
+	protected void zSetFromEvoType3ReadOnlyTypesData(EvoType3ReadOnlyTypesData data)
+	{
+		this.setFromEvoType3ReadOnlyTypesData(data);
+	}
+
+	public void setFromEvoType3ReadOnlyTypesData(EvoType3ReadOnlyTypesData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		pkBigDecimalAttribute = data.getPkBigDecimalAttribute();
+		pkBooleanAttribute = data.isPkBooleanAttribute();
+		pkByteAttribute = data.getPkByteAttribute();
+		pkCharAttribute = data.getPkCharAttribute();
+		pkDateAttribute = data.getPkDateAttribute();
+		pkDoubleAttribute = data.getPkDoubleAttribute();
+		pkFloatAttribute = data.getPkFloatAttribute();
+		pkIntAttribute = data.getPkIntAttribute();
+		pkLongAttribute = data.getPkLongAttribute();
+		pkShortAttribute = data.getPkShortAttribute();
+		pkStringAttribute = data.getPkStringAttribute();
+		pkTimestampAttribute = data.getPkTimestampAttribute();
+		this.resetEmbeddedValueObjects();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return EvoType3ReadOnlyTypesFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromEvoType3ReadOnlyTypesData((EvoType3ReadOnlyTypesData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	protected BigDecimal getPkBigDecimalAttribute()
+	{
+		return this.pkBigDecimalAttribute;
+	}
+
+	protected void setPkBigDecimalAttribute(BigDecimal value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkBigDecimalAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected boolean isPkBooleanAttribute()
+	{
+		return this.pkBooleanAttribute;
+	}
+
+	protected void setPkBooleanAttribute(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkBooleanAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected byte getPkByteAttribute()
+	{
+		return this.pkByteAttribute;
+	}
+
+	protected void setPkByteAttribute(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkByteAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected char getPkCharAttribute()
+	{
+		return this.pkCharAttribute;
+	}
+
+	protected void setPkCharAttribute(char value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkCharAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected Date getPkDateAttribute()
+	{
+		return this.pkDateAttribute;
+	}
+
+	protected void setPkDateAttribute(java.util.Date value)
+	{
+		this.ensureSetAttributeAllowed();
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.pkDateAttribute = value;
+		}
+		else
+		{
+			this.pkDateAttribute = new java.sql.Date(value.getTime());
+		}
+
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected double getPkDoubleAttribute()
+	{
+		return this.pkDoubleAttribute;
+	}
+
+	protected void setPkDoubleAttribute(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkDoubleAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected float getPkFloatAttribute()
+	{
+		return this.pkFloatAttribute;
+	}
+
+	protected void setPkFloatAttribute(float value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkFloatAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected int getPkIntAttribute()
+	{
+		return this.pkIntAttribute;
+	}
+
+	protected void setPkIntAttribute(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkIntAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected long getPkLongAttribute()
+	{
+		return this.pkLongAttribute;
+	}
+
+	protected void setPkLongAttribute(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkLongAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected short getPkShortAttribute()
+	{
+		return this.pkShortAttribute;
+	}
+
+	protected void setPkShortAttribute(short value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkShortAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected String getPkStringAttribute()
+	{
+		return this.pkStringAttribute;
+	}
+
+	protected void setPkStringAttribute(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkStringAttribute = StringPool.getInstance().getOrAddToCache(value, EvoType3ReadOnlyTypesFinder.isFullCache());
+		this.resetEmbeddedValueObjects();
+	}
+
+	protected Timestamp getPkTimestampAttribute()
+	{
+		return this.pkTimestampAttribute;
+	}
+
+	protected void setPkTimestampAttribute(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pkTimestampAttribute = value;
+		this.resetEmbeddedValueObjects();
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final EvoType3ReadOnlyTypesData evoType3ReadOnlyTypesData = (EvoType3ReadOnlyTypesData) newData;
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "pkBigDecimalAttribute: "+(""+getPkBigDecimalAttribute())+ " / ";
+		result += "pkBooleanAttribute: "+(""+isPkBooleanAttribute())+ " / ";
+		result += "pkByteAttribute: "+(""+getPkByteAttribute())+ " / ";
+		result += "pkCharAttribute: "+(""+getPkCharAttribute())+ " / ";
+		result += "pkDateAttribute: "+PrintablePreparedStatement.dateFormat.print(getPkDateAttribute().getTime())+ " / ";
+		result += "pkDoubleAttribute: "+(""+getPkDoubleAttribute())+ " / ";
+		result += "pkFloatAttribute: "+(""+getPkFloatAttribute())+ " / ";
+		result += "pkIntAttribute: "+(""+getPkIntAttribute())+ " / ";
+		result += "pkLongAttribute: "+(""+getPkLongAttribute())+ " / ";
+		result += "pkShortAttribute: "+(""+getPkShortAttribute())+ " / ";
+		result += "pkStringAttribute: "+"'"+getPkStringAttribute()+"'"+ " / ";
+		result += "pkTimestampAttribute: "+(isPkTimestampAttributeNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getPkTimestampAttribute().getTime()))+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeObject(this.pkBigDecimalAttribute);
+			out.writeBoolean(this.pkBooleanAttribute);
+			out.writeByte(this.pkByteAttribute);
+			out.writeChar(this.pkCharAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveDate(out, this.pkDateAttribute);
+			out.writeDouble(this.pkDoubleAttribute);
+			out.writeFloat(this.pkFloatAttribute);
+			out.writeInt(this.pkIntAttribute);
+			out.writeLong(this.pkLongAttribute);
+			out.writeShort(this.pkShortAttribute);
+			out.writeObject(this.pkStringAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.pkTimestampAttribute);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+		out.writeObject("com.gs.fw.common.mithra.test.domain.evo.EvoType3ReadOnlyTypesData");
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.pkBigDecimalAttribute = (BigDecimal)in.readObject();
+			this.pkBooleanAttribute = in.readBoolean();
+			this.pkByteAttribute = in.readByte();
+			this.pkCharAttribute = in.readChar();
+			this.pkDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.pkDoubleAttribute = in.readDouble();
+			this.pkFloatAttribute = in.readFloat();
+			this.pkIntAttribute = in.readInt();
+			this.pkLongAttribute = in.readLong();
+			this.pkShortAttribute = in.readShort();
+			this.pkStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType3ReadOnlyTypesFinder.isFullCache());
+			this.pkTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.pkBigDecimalAttribute = (BigDecimal)in.readObject();
+			this.pkBooleanAttribute = in.readBoolean();
+			this.pkByteAttribute = in.readByte();
+			this.pkCharAttribute = in.readChar();
+			this.pkDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.pkDoubleAttribute = in.readDouble();
+			this.pkFloatAttribute = in.readFloat();
+			this.pkIntAttribute = in.readInt();
+			this.pkLongAttribute = in.readLong();
+			this.pkShortAttribute = in.readShort();
+			this.pkStringAttribute = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EvoType3ReadOnlyTypesFinder.isFullCache());
+			this.pkTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = EvoType3ReadOnlyTypesFinder.pkBooleanAttribute().eq(this.isPkBooleanAttribute());
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkByteAttribute().eq(this.getPkByteAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkCharAttribute().eq(this.getPkCharAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkDateAttribute().eq(this.getPkDateAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkDoubleAttribute().eq(this.getPkDoubleAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkFloatAttribute().eq(this.getPkFloatAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkIntAttribute().eq(this.getPkIntAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkLongAttribute().eq(this.getPkLongAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkShortAttribute().eq(this.getPkShortAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkStringAttribute().eq(this.getPkStringAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkTimestampAttribute().eq(this.getPkTimestampAttribute()));
+			op = op.and(EvoType3ReadOnlyTypesFinder.pkBigDecimalAttribute().eq(this.getPkBigDecimalAttribute()));
+			return EvoType3ReadOnlyTypesFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+		this.pk = null;
+	}
+}
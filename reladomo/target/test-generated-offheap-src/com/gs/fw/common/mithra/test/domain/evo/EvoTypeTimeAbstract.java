@@ -0,0 +1,128 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/superclass/Abstract.jsp
+public abstract class EvoTypeTimeAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	//add getters for all attributes
+	public abstract boolean isBooleanAttributeNull();
+	public abstract boolean isBooleanAttribute();
+	public abstract void setBooleanAttribute(boolean booleanAttribute);
+	public abstract void setBooleanAttributeNull();
+	public abstract boolean isByteAttributeNull();
+	public abstract byte getByteAttribute();
+	public abstract void setByteAttribute(byte byteAttribute);
+	public abstract void setByteAttributeNull();
+	public abstract boolean isCharAttributeNull();
+	public abstract char getCharAttribute();
+	public abstract void setCharAttribute(char charAttribute);
+	public abstract void setCharAttributeNull();
+	public abstract boolean isDateAttributeNull();
+	public abstract Date getDateAttribute();
+	public abstract void setDateAttribute(Date dateAttribute);
+	public abstract boolean isTimeAttributeNull();
+	public abstract Time getTimeAttribute();
+	public abstract void setTimeAttribute(Time timeAttribute);
+	public abstract boolean isDoubleAttributeNull();
+	public abstract double getDoubleAttribute();
+	public abstract void setDoubleAttribute(double doubleAttribute);
+	public abstract void setDoubleAttributeNull();
+	public abstract boolean isFloatAttributeNull();
+	public abstract float getFloatAttribute();
+	public abstract void setFloatAttribute(float floatAttribute);
+	public abstract void setFloatAttributeNull();
+	public abstract boolean isIntAttributeNull();
+	public abstract int getIntAttribute();
+	public abstract void setIntAttribute(int intAttribute);
+	public abstract void setIntAttributeNull();
+	public abstract boolean isLongAttributeNull();
+	public abstract long getLongAttribute();
+	public abstract void setLongAttribute(long longAttribute);
+	public abstract void setLongAttributeNull();
+	public abstract boolean isShortAttributeNull();
+	public abstract short getShortAttribute();
+	public abstract void setShortAttribute(short shortAttribute);
+	public abstract void setShortAttributeNull();
+	public abstract boolean isStringAttributeNull();
+	public abstract String getStringAttribute();
+	public abstract void setStringAttribute(String stringAttribute);
+	public abstract boolean isTimestampAttributeNull();
+	public abstract Timestamp getTimestampAttribute();
+	public abstract void setTimestampAttribute(Timestamp timestampAttribute);
+	protected abstract boolean isPkBooleanAttributeNull();
+	protected abstract boolean isPkBooleanAttribute();
+	protected abstract void setPkBooleanAttribute(boolean pkBooleanAttribute);
+	protected abstract boolean isPkByteAttributeNull();
+	protected abstract byte getPkByteAttribute();
+	protected abstract void setPkByteAttribute(byte pkByteAttribute);
+	protected abstract boolean isPkCharAttributeNull();
+	protected abstract char getPkCharAttribute();
+	protected abstract void setPkCharAttribute(char pkCharAttribute);
+	protected abstract boolean isPkDateAttributeNull();
+	protected abstract Date getPkDateAttribute();
+	protected abstract void setPkDateAttribute(Date pkDateAttribute);
+	protected abstract boolean isPkTimeAttributeNull();
+	protected abstract Time getPkTimeAttribute();
+	protected abstract void setPkTimeAttribute(Time pkTimeAttribute);
+	protected abstract boolean isPkDoubleAttributeNull();
+	protected abstract double getPkDoubleAttribute();
+	protected abstract void setPkDoubleAttribute(double pkDoubleAttribute);
+	protected abstract boolean isPkFloatAttributeNull();
+	protected abstract float getPkFloatAttribute();
+	protected abstract void setPkFloatAttribute(float pkFloatAttribute);
+	protected abstract boolean isPkIntAttributeNull();
+	protected abstract int getPkIntAttribute();
+	protected abstract void setPkIntAttribute(int pkIntAttribute);
+	protected abstract boolean isPkLongAttributeNull();
+	protected abstract long getPkLongAttribute();
+	protected abstract void setPkLongAttribute(long pkLongAttribute);
+	protected abstract boolean isPkShortAttributeNull();
+	protected abstract short getPkShortAttribute();
+	protected abstract void setPkShortAttribute(short pkShortAttribute);
+	protected abstract boolean isPkStringAttributeNull();
+	protected abstract String getPkStringAttribute();
+	protected abstract void setPkStringAttribute(String pkStringAttribute);
+	protected abstract boolean isPkTimestampAttributeNull();
+	protected abstract Timestamp getPkTimestampAttribute();
+	protected abstract void setPkTimestampAttribute(Timestamp pkTimestampAttribute);
+	protected abstract boolean isPkBigDecimalAttributeNull();
+	protected abstract BigDecimal getPkBigDecimalAttribute();
+	protected abstract void setPkBigDecimalAttribute(BigDecimal pkBigDecimalAttribute);
+	public abstract EvoTypesTime getPk();
+	public abstract void copyPk(EvoTypesTime pk);
+	public EvoTypeTime getDetachedCopy() throws MithraBusinessException
+	{
+		return (EvoTypeTime) super.getDetachedCopy();
+	}
+
+	public EvoTypeTime getNonPersistentCopy() throws MithraBusinessException
+	{
+		return (EvoTypeTime) super.getNonPersistentCopy();
+	}
+}
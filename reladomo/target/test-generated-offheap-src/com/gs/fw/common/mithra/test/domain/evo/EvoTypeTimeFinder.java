@@ -0,0 +1,51 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.attribute.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface EvoTypeTimeFinder<Result extends EvoTypeTime> extends RelatedFinder<Result>
+{
+	public RelatedFinder getRelationshipFinderByName(String relationshipName);
+	public Attribute getAttributeByName(String attributeName);
+	public BooleanAttribute booleanAttribute();
+	public ByteAttribute byteAttribute();
+	public CharAttribute charAttribute();
+	public DateAttribute dateAttribute();
+	public TimeAttribute timeAttribute();
+	public DoubleAttribute doubleAttribute();
+	public FloatAttribute floatAttribute();
+	public IntegerAttribute intAttribute();
+	public LongAttribute longAttribute();
+	public ShortAttribute shortAttribute();
+	public StringAttribute stringAttribute();
+	public TimestampAttribute timestampAttribute();
+	public BooleanAttribute pkBooleanAttribute();
+	public ByteAttribute pkByteAttribute();
+	public CharAttribute pkCharAttribute();
+	public DateAttribute pkDateAttribute();
+	public TimeAttribute pkTimeAttribute();
+	public DoubleAttribute pkDoubleAttribute();
+	public FloatAttribute pkFloatAttribute();
+	public IntegerAttribute pkIntAttribute();
+	public LongAttribute pkLongAttribute();
+	public ShortAttribute pkShortAttribute();
+	public StringAttribute pkStringAttribute();
+	public TimestampAttribute pkTimestampAttribute();
+	public BigDecimalAttribute pkBigDecimalAttribute();
+	public EvoTypesTime.ManagedEvoTypesTimeAttribute pk();
+}
@@ -0,0 +1,977 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.Operation;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.math.BigDecimal;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/embeddedvalue/Abstract.jsp
+public abstract class EvoTypesNestedAbstract implements Serializable
+{
+	private static final EvoTypesNestedExtractors UNMANAGED_ATTRIBUTES = new UnmanagedEvoTypesNestedAttribute();
+	private final Object ref;
+	private final EvoTypesNestedExtractors attributes;
+	public EvoTypesNestedAbstract()
+	{
+		this.ref = new EvoTypesNestedData();
+		this.attributes = UNMANAGED_ATTRIBUTES;
+	}
+
+	protected EvoTypesNestedAbstract(MithraObject ref, EvoTypesNestedExtractors attributes)
+	{
+		this.ref = ref;
+		this.attributes = attributes;
+	}
+
+	public static EvoTypesNested managedInstance(MithraObject ref, EvoTypesNestedExtractors attributes)
+	{
+		return new EvoTypesNested(ref, attributes);
+	}
+
+	public BigDecimal getBigDecimalAttribute()
+	{
+		return this.attributes.bigDecimalAttribute().bigDecimalValueOf(ref);
+	}
+
+	public void setBigDecimalAttribute(BigDecimal bigDecimalAttribute)
+	{
+		this.attributes.bigDecimalAttribute().setBigDecimalValue(ref, bigDecimalAttribute);
+	}
+
+	public boolean isBigDecimalAttributeNull()
+	{
+		return this.attributes.bigDecimalAttribute().isAttributeNull(ref);
+	}
+
+	public void setBigDecimalAttributeNull()
+	{
+		this.attributes.bigDecimalAttribute().setValueNull(ref);
+	}
+
+	public void setBigDecimalAttributeUntil(BigDecimal bigDecimalAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.bigDecimalAttribute().setValueUntil(ref, bigDecimalAttribute, exclusiveUntil);
+	}
+
+	public void incrementBigDecimalAttribute(BigDecimal bigDecimalAttribute)
+	{
+		BigDecimalExtractor extractor = this.attributes.bigDecimalAttribute();
+		extractor.increment(ref, bigDecimalAttribute);
+	}
+
+	public void incrementBigDecimalAttributeUntil(BigDecimal bigDecimalAttribute, Timestamp exclusiveUntil)
+	{
+		BigDecimalExtractor extractor = this.attributes.bigDecimalAttribute();
+		extractor.incrementUntil(ref, bigDecimalAttribute, exclusiveUntil);
+	}
+
+	public boolean getBooleanAttribute()
+	{
+		return this.attributes.booleanAttribute().booleanValueOf(ref);
+	}
+
+	public void setBooleanAttribute(boolean booleanAttribute)
+	{
+		this.attributes.booleanAttribute().setBooleanValue(ref, booleanAttribute);
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return this.attributes.booleanAttribute().isAttributeNull(ref);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		this.attributes.booleanAttribute().setValueNull(ref);
+	}
+
+	public void setBooleanAttributeUntil(boolean booleanAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.booleanAttribute().setValueUntil(ref, booleanAttribute, exclusiveUntil);
+	}
+
+	public byte getByteAttribute()
+	{
+		return this.attributes.byteAttribute().byteValueOf(ref);
+	}
+
+	public void setByteAttribute(byte byteAttribute)
+	{
+		this.attributes.byteAttribute().setByteValue(ref, byteAttribute);
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return this.attributes.byteAttribute().isAttributeNull(ref);
+	}
+
+	public void setByteAttributeNull()
+	{
+		this.attributes.byteAttribute().setValueNull(ref);
+	}
+
+	public void setByteAttributeUntil(byte byteAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.byteAttribute().setValueUntil(ref, byteAttribute, exclusiveUntil);
+	}
+
+	public char getCharAttribute()
+	{
+		return this.attributes.charAttribute().charValueOf(ref);
+	}
+
+	public void setCharAttribute(char charAttribute)
+	{
+		this.attributes.charAttribute().setCharValue(ref, charAttribute);
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return this.attributes.charAttribute().isAttributeNull(ref);
+	}
+
+	public void setCharAttributeNull()
+	{
+		this.attributes.charAttribute().setValueNull(ref);
+	}
+
+	public void setCharAttributeUntil(char charAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.charAttribute().setValueUntil(ref, charAttribute, exclusiveUntil);
+	}
+
+	public Date getDateAttribute()
+	{
+		return this.attributes.dateAttribute().dateValueOf(ref);
+	}
+
+	public void setDateAttribute(Date dateAttribute)
+	{
+		this.attributes.dateAttribute().setDateValue(ref, dateAttribute);
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return this.attributes.dateAttribute().isAttributeNull(ref);
+	}
+
+	public void setDateAttributeNull()
+	{
+		this.attributes.dateAttribute().setValueNull(ref);
+	}
+
+	public void setDateAttributeUntil(Date dateAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.dateAttribute().setValueUntil(ref, dateAttribute, exclusiveUntil);
+	}
+
+	public double getDoubleAttribute()
+	{
+		return this.attributes.doubleAttribute().doubleValueOf(ref);
+	}
+
+	public void setDoubleAttribute(double doubleAttribute)
+	{
+		this.attributes.doubleAttribute().setDoubleValue(ref, doubleAttribute);
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return this.attributes.doubleAttribute().isAttributeNull(ref);
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		this.attributes.doubleAttribute().setValueNull(ref);
+	}
+
+	public void setDoubleAttributeUntil(double doubleAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.doubleAttribute().setValueUntil(ref, doubleAttribute, exclusiveUntil);
+	}
+
+	public void incrementDoubleAttribute(double doubleAttribute)
+	{
+		DoubleExtractor extractor = this.attributes.doubleAttribute();
+		extractor.increment(ref, doubleAttribute);
+	}
+
+	public void incrementDoubleAttributeUntil(double doubleAttribute, Timestamp exclusiveUntil)
+	{
+		DoubleExtractor extractor = this.attributes.doubleAttribute();
+		extractor.incrementUntil(ref, doubleAttribute, exclusiveUntil);
+	}
+
+	public float getFloatAttribute()
+	{
+		return this.attributes.floatAttribute().floatValueOf(ref);
+	}
+
+	public void setFloatAttribute(float floatAttribute)
+	{
+		this.attributes.floatAttribute().setFloatValue(ref, floatAttribute);
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return this.attributes.floatAttribute().isAttributeNull(ref);
+	}
+
+	public void setFloatAttributeNull()
+	{
+		this.attributes.floatAttribute().setValueNull(ref);
+	}
+
+	public void setFloatAttributeUntil(float floatAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.floatAttribute().setValueUntil(ref, floatAttribute, exclusiveUntil);
+	}
+
+	public int getIntAttribute()
+	{
+		return this.attributes.intAttribute().intValueOf(ref);
+	}
+
+	public void setIntAttribute(int intAttribute)
+	{
+		this.attributes.intAttribute().setIntValue(ref, intAttribute);
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return this.attributes.intAttribute().isAttributeNull(ref);
+	}
+
+	public void setIntAttributeNull()
+	{
+		this.attributes.intAttribute().setValueNull(ref);
+	}
+
+	public void setIntAttributeUntil(int intAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.intAttribute().setValueUntil(ref, intAttribute, exclusiveUntil);
+	}
+
+	public long getLongAttribute()
+	{
+		return this.attributes.longAttribute().longValueOf(ref);
+	}
+
+	public void setLongAttribute(long longAttribute)
+	{
+		this.attributes.longAttribute().setLongValue(ref, longAttribute);
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return this.attributes.longAttribute().isAttributeNull(ref);
+	}
+
+	public void setLongAttributeNull()
+	{
+		this.attributes.longAttribute().setValueNull(ref);
+	}
+
+	public void setLongAttributeUntil(long longAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.longAttribute().setValueUntil(ref, longAttribute, exclusiveUntil);
+	}
+
+	public short getShortAttribute()
+	{
+		return this.attributes.shortAttribute().shortValueOf(ref);
+	}
+
+	public void setShortAttribute(short shortAttribute)
+	{
+		this.attributes.shortAttribute().setShortValue(ref, shortAttribute);
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return this.attributes.shortAttribute().isAttributeNull(ref);
+	}
+
+	public void setShortAttributeNull()
+	{
+		this.attributes.shortAttribute().setValueNull(ref);
+	}
+
+	public void setShortAttributeUntil(short shortAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.shortAttribute().setValueUntil(ref, shortAttribute, exclusiveUntil);
+	}
+
+	public String getStringAttribute()
+	{
+		return this.attributes.stringAttribute().stringValueOf(ref);
+	}
+
+	public void setStringAttribute(String stringAttribute)
+	{
+		this.attributes.stringAttribute().setStringValue(ref, stringAttribute);
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.attributes.stringAttribute().isAttributeNull(ref);
+	}
+
+	public void setStringAttributeNull()
+	{
+		this.attributes.stringAttribute().setValueNull(ref);
+	}
+
+	public void setStringAttributeUntil(String stringAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.stringAttribute().setValueUntil(ref, stringAttribute, exclusiveUntil);
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		return this.attributes.timestampAttribute().timestampValueOf(ref);
+	}
+
+	public void setTimestampAttribute(Timestamp timestampAttribute)
+	{
+		this.attributes.timestampAttribute().setTimestampValue(ref, timestampAttribute);
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.attributes.timestampAttribute().isAttributeNull(ref);
+	}
+
+	public void setTimestampAttributeNull()
+	{
+		this.attributes.timestampAttribute().setValueNull(ref);
+	}
+
+	public void setTimestampAttributeUntil(Timestamp timestampAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.timestampAttribute().setValueUntil(ref, timestampAttribute, exclusiveUntil);
+	}
+
+	public EvoTypesLeaf getLeafEvo()
+	{
+		return this.attributes.leafEvo().evoTypesLeafValueOf(ref);
+	}
+
+	public void copyLeafEvo(EvoTypesLeaf leafEvo)
+	{
+		this.attributes.leafEvo().setEvoTypesLeafValue(ref, leafEvo);
+	}
+
+	public void copyLeafEvoUntil(EvoTypesLeaf leafEvo, Timestamp exclusiveUntil)
+	{
+		this.attributes.leafEvo().setEvoTypesLeafValueUntil(ref, leafEvo, exclusiveUntil);
+	}
+
+	public OrderStatus getOrderStatus()
+	{
+		return this.attributes.zOrderStatusExtractor().valueOf(ref);
+	}
+
+	public void setOrderStatus(OrderStatus orderStatus)
+	{
+		this.attributes.zOrderStatusExtractor().setValue(ref, orderStatus);
+	}
+
+	public OrderStatus getOrderStatusWithStatus(int status)
+	{
+		return this.attributes.zOrderStatusWithStatusExtractor(status).valueOf(ref);
+	}
+
+	public boolean equals(Object o)
+	{
+		if (this == o) return true;
+		if (o == null || this.getClass() != o.getClass()) return false;
+		final EvoTypesNested other = (EvoTypesNested) o;
+		if (this.getBigDecimalAttribute() != null ? !this.getBigDecimalAttribute().equals(other.getBigDecimalAttribute()) : other.getBigDecimalAttribute() != null) return false;
+		if (this.getBooleanAttribute() != other.getBooleanAttribute()) return false;
+		if (this.getByteAttribute() != other.getByteAttribute()) return false;
+		if (this.getCharAttribute() != other.getCharAttribute()) return false;
+		if (this.getDateAttribute() != null ? !this.getDateAttribute().equals(other.getDateAttribute()) : other.getDateAttribute() != null) return false;
+		if (this.getDoubleAttribute() != other.getDoubleAttribute()) return false;
+		if (this.getFloatAttribute() != other.getFloatAttribute()) return false;
+		if (this.getIntAttribute() != other.getIntAttribute()) return false;
+		if (this.getLongAttribute() != other.getLongAttribute()) return false;
+		if (this.getShortAttribute() != other.getShortAttribute()) return false;
+		if (this.getStringAttribute() != null ? !this.getStringAttribute().equals(other.getStringAttribute()) : other.getStringAttribute() != null) return false;
+		if (this.getTimestampAttribute() != null ? !this.getTimestampAttribute().equals(other.getTimestampAttribute()) : other.getTimestampAttribute() != null) return false;
+		if (!this.getLeafEvo().equals(other.getLeafEvo())) return false;
+		return true;
+	}
+
+	public int hashCode()
+	{
+		int result = 17;
+		result *= 37 + (this.getBigDecimalAttribute() != null ? this.getBigDecimalAttribute().hashCode() : 0);
+		result *= 37 + (this.getBooleanAttribute() ? 0 : 1);
+		result *= 37 + (int) this.getByteAttribute();
+		result *= 37 + (int) this.getCharAttribute();
+		result *= 37 + (this.getDateAttribute() != null ? this.getDateAttribute().hashCode() : 0);
+		final long l0 = Double.doubleToLongBits(this.getDoubleAttribute());
+		result *= 37 + (int) (l0 ^ (l0 >>> 32));
+		result *= 37 + Float.floatToIntBits(this.getFloatAttribute());
+		result *= 37 + this.getIntAttribute();
+		result *= 37 + (int) (this.getLongAttribute() ^ (getLongAttribute() >>> 32));
+		result *= 37 + (int) this.getShortAttribute();
+		result *= 37 + (this.getStringAttribute() != null ? this.getStringAttribute().hashCode() : 0);
+		result *= 37 + (this.getTimestampAttribute() != null ? this.getTimestampAttribute().hashCode() : 0);
+		result *= 37 + (this.getLeafEvo().hashCode());
+		return result;
+	}
+
+	public static interface EvoTypesNestedExtractor
+	{
+		public EvoTypesNested evoTypesNestedValueOf(Object o);
+		public void setEvoTypesNestedValue(Object o, EvoTypesNested evoTypesNested);
+		public void setEvoTypesNestedValueUntil(Object o, EvoTypesNested evoTypesNested, Timestamp exclusiveUntil);
+	}
+
+	public static interface EvoTypesNestedExtractors
+	{
+		public BigDecimalExtractor bigDecimalAttribute();
+		public BooleanExtractor booleanAttribute();
+		public ByteExtractor byteAttribute();
+		public CharExtractor charAttribute();
+		public DateExtractor dateAttribute();
+		public DoubleExtractor doubleAttribute();
+		public FloatExtractor floatAttribute();
+		public IntExtractor intAttribute();
+		public LongExtractor longAttribute();
+		public ShortExtractor shortAttribute();
+		public StringExtractor stringAttribute();
+		public TimestampExtractor timestampAttribute();
+		public EvoTypesLeaf.EvoTypesLeafExtractor leafEvo();
+		public Extractor< Object, OrderStatus> zOrderStatusExtractor();
+		public Extractor< Object, OrderStatus> zOrderStatusWithStatusExtractor(int status);
+	}
+
+	public static abstract class ManagedEvoTypesNestedAttribute implements EvoTypesNestedExtractor, EvoTypesNestedExtractors, EmbeddedValueExtractor
+	{
+		public Object valueOf(Object o)
+		{
+			return this.evoTypesNestedValueOf(o);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			this.setEvoTypesNestedValue(o, (EvoTypesNested) newValue);
+		}
+		//TODO: ledav check whether to override this
+		public void setValueNull(Object o)
+		{
+			throw new UnsupportedOperationException("setValueNull should not be called on embedded value objects.");
+		}
+
+		public Operation eq(EvoTypesNested evoTypesNested)
+		{
+			ManagedEvoTypesNestedAttribute evoTypesNestedAttribute = this.retrieveAttribute();
+			Operation op1 = evoTypesNestedAttribute.bigDecimalAttribute().eq(evoTypesNested.getBigDecimalAttribute());
+			Operation op2 = evoTypesNestedAttribute.booleanAttribute().eq(evoTypesNested.getBooleanAttribute());
+			Operation op3 = evoTypesNestedAttribute.byteAttribute().eq(evoTypesNested.getByteAttribute());
+			Operation op4 = evoTypesNestedAttribute.charAttribute().eq(evoTypesNested.getCharAttribute());
+			Operation op5 = evoTypesNestedAttribute.dateAttribute().eq(evoTypesNested.getDateAttribute());
+			Operation op6 = evoTypesNestedAttribute.doubleAttribute().eq(evoTypesNested.getDoubleAttribute());
+			Operation op7 = evoTypesNestedAttribute.floatAttribute().eq(evoTypesNested.getFloatAttribute());
+			Operation op8 = evoTypesNestedAttribute.intAttribute().eq(evoTypesNested.getIntAttribute());
+			Operation op9 = evoTypesNestedAttribute.longAttribute().eq(evoTypesNested.getLongAttribute());
+			Operation op10 = evoTypesNestedAttribute.shortAttribute().eq(evoTypesNested.getShortAttribute());
+			Operation op11 = evoTypesNestedAttribute.stringAttribute().eq(evoTypesNested.getStringAttribute());
+			Operation op12 = evoTypesNestedAttribute.timestampAttribute().eq(evoTypesNested.getTimestampAttribute());
+			Operation op13 = evoTypesNestedAttribute.leafEvo().eq(evoTypesNested.getLeafEvo());
+			return op1
+			.and(op2)
+			.and(op3)
+			.and(op4)
+			.and(op5)
+			.and(op6)
+			.and(op7)
+			.and(op8)
+			.and(op9)
+			.and(op10)
+			.and(op11)
+			.and(op12)
+			.and(op13)
+			;
+		}
+
+		public Operation notEq(EvoTypesNested evoTypesNested)
+		{
+			ManagedEvoTypesNestedAttribute evoTypesNestedAttribute = this.retrieveAttribute();
+			Operation op1 = evoTypesNestedAttribute.bigDecimalAttribute().notEq(evoTypesNested.getBigDecimalAttribute());
+			Operation op2 = evoTypesNestedAttribute.booleanAttribute().notEq(evoTypesNested.getBooleanAttribute());
+			Operation op3 = evoTypesNestedAttribute.byteAttribute().notEq(evoTypesNested.getByteAttribute());
+			Operation op4 = evoTypesNestedAttribute.charAttribute().notEq(evoTypesNested.getCharAttribute());
+			Operation op5 = evoTypesNestedAttribute.dateAttribute().notEq(evoTypesNested.getDateAttribute());
+			Operation op6 = evoTypesNestedAttribute.doubleAttribute().notEq(evoTypesNested.getDoubleAttribute());
+			Operation op7 = evoTypesNestedAttribute.floatAttribute().notEq(evoTypesNested.getFloatAttribute());
+			Operation op8 = evoTypesNestedAttribute.intAttribute().notEq(evoTypesNested.getIntAttribute());
+			Operation op9 = evoTypesNestedAttribute.longAttribute().notEq(evoTypesNested.getLongAttribute());
+			Operation op10 = evoTypesNestedAttribute.shortAttribute().notEq(evoTypesNested.getShortAttribute());
+			Operation op11 = evoTypesNestedAttribute.stringAttribute().notEq(evoTypesNested.getStringAttribute());
+			Operation op12 = evoTypesNestedAttribute.timestampAttribute().notEq(evoTypesNested.getTimestampAttribute());
+			Operation op13 = evoTypesNestedAttribute.leafEvo().notEq(evoTypesNested.getLeafEvo());
+			return op1
+			.or(op2)
+			.or(op3)
+			.or(op4)
+			.or(op5)
+			.or(op6)
+			.or(op7)
+			.or(op8)
+			.or(op9)
+			.or(op10)
+			.or(op11)
+			.or(op12)
+			.or(op13)
+			;
+		}
+
+		public abstract BigDecimalAttribute bigDecimalAttribute();
+		public abstract BooleanAttribute booleanAttribute();
+		public abstract ByteAttribute byteAttribute();
+		public abstract CharAttribute charAttribute();
+		public abstract DateAttribute dateAttribute();
+		public abstract DoubleAttribute doubleAttribute();
+		public abstract FloatAttribute floatAttribute();
+		public abstract IntegerAttribute intAttribute();
+		public abstract LongAttribute longAttribute();
+		public abstract ShortAttribute shortAttribute();
+		public abstract StringAttribute stringAttribute();
+		public abstract TimestampAttribute timestampAttribute();
+		public abstract EvoTypesLeaf.ManagedEvoTypesLeafAttribute leafEvo();
+		public abstract OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatus();
+		public abstract OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatusWithStatus(int status);
+		protected abstract ManagedEvoTypesNestedAttribute retrieveAttribute();
+	}
+
+	public static class UnmanagedEvoTypesNestedAttribute implements EvoTypesNestedExtractors
+	{
+		private final BigDecimalExtractor bigDecimalAttributeExtractor = new EvoTypesNestedBigDecimalAttributeExtractor();
+		private final BooleanExtractor booleanAttributeExtractor = new EvoTypesNestedBooleanAttributeExtractor();
+		private final ByteExtractor byteAttributeExtractor = new EvoTypesNestedByteAttributeExtractor();
+		private final CharExtractor charAttributeExtractor = new EvoTypesNestedCharAttributeExtractor();
+		private final DateExtractor dateAttributeExtractor = new EvoTypesNestedDateAttributeExtractor();
+		private final DoubleExtractor doubleAttributeExtractor = new EvoTypesNestedDoubleAttributeExtractor();
+		private final FloatExtractor floatAttributeExtractor = new EvoTypesNestedFloatAttributeExtractor();
+		private final IntExtractor intAttributeExtractor = new EvoTypesNestedIntAttributeExtractor();
+		private final LongExtractor longAttributeExtractor = new EvoTypesNestedLongAttributeExtractor();
+		private final ShortExtractor shortAttributeExtractor = new EvoTypesNestedShortAttributeExtractor();
+		private final StringExtractor stringAttributeExtractor = new EvoTypesNestedStringAttributeExtractor();
+		private final TimestampExtractor timestampAttributeExtractor = new EvoTypesNestedTimestampAttributeExtractor();
+		private final EvoTypesLeaf.EvoTypesLeafExtractor leafEvoExtractor = new EvoTypesNestedLeafEvoExtractor();
+		private final Extractor< Object, OrderStatus> orderStatusExtractor = new OrderStatusExtractor();
+		public BigDecimalExtractor bigDecimalAttribute()
+		{
+			return this.bigDecimalAttributeExtractor;
+		}
+
+		public BooleanExtractor booleanAttribute()
+		{
+			return this.booleanAttributeExtractor;
+		}
+
+		public ByteExtractor byteAttribute()
+		{
+			return this.byteAttributeExtractor;
+		}
+
+		public CharExtractor charAttribute()
+		{
+			return this.charAttributeExtractor;
+		}
+
+		public DateExtractor dateAttribute()
+		{
+			return this.dateAttributeExtractor;
+		}
+
+		public DoubleExtractor doubleAttribute()
+		{
+			return this.doubleAttributeExtractor;
+		}
+
+		public FloatExtractor floatAttribute()
+		{
+			return this.floatAttributeExtractor;
+		}
+
+		public IntExtractor intAttribute()
+		{
+			return this.intAttributeExtractor;
+		}
+
+		public LongExtractor longAttribute()
+		{
+			return this.longAttributeExtractor;
+		}
+
+		public ShortExtractor shortAttribute()
+		{
+			return this.shortAttributeExtractor;
+		}
+
+		public StringExtractor stringAttribute()
+		{
+			return this.stringAttributeExtractor;
+		}
+
+		public TimestampExtractor timestampAttribute()
+		{
+			return this.timestampAttributeExtractor;
+		}
+
+		public EvoTypesLeaf.EvoTypesLeafExtractor leafEvo()
+		{
+			return this.leafEvoExtractor;
+		}
+
+		public Extractor< Object, OrderStatus> zOrderStatusExtractor()
+		{
+			return this.orderStatusExtractor;
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatus()
+		{
+			throw new RuntimeException("not implemented");
+		}
+
+		public Extractor< Object, OrderStatus> zOrderStatusWithStatusExtractor(int status)
+		{
+			throw new RuntimeException("not supported");
+		}
+
+		public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses orderStatusWithStatus(int status)
+		{
+			throw new RuntimeException("not implemented");
+		}
+	}
+
+	public static class EvoTypesNestedBigDecimalAttributeExtractor extends AbstractBigDecimalExtractor
+	{
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			((EvoTypesNestedData) o).setBigDecimalAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isBigDecimalAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setBigDecimalAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedBooleanAttributeExtractor extends AbstractBooleanExtractor
+	{
+		public boolean booleanValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			((EvoTypesNestedData) o).setBooleanAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setBooleanAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedByteAttributeExtractor extends AbstractByteExtractor
+	{
+		public byte byteValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			((EvoTypesNestedData) o).setByteAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setByteAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedCharAttributeExtractor extends AbstractCharExtractor
+	{
+		public char charValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			((EvoTypesNestedData) o).setCharAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setCharAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedDateAttributeExtractor extends AbstractDateExtractor
+	{
+		public Date dateValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			((EvoTypesNestedData) o).setDateAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isDateAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setDateAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedDoubleAttributeExtractor extends AbstractDoubleExtractor
+	{
+		public double doubleValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			((EvoTypesNestedData) o).setDoubleAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setDoubleAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedFloatAttributeExtractor extends AbstractFloatExtractor
+	{
+		public float floatValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			((EvoTypesNestedData) o).setFloatAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setFloatAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedIntAttributeExtractor extends AbstractIntExtractor
+	{
+		public int intValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			((EvoTypesNestedData) o).setIntAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setIntAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedLongAttributeExtractor extends AbstractLongExtractor
+	{
+		public long longValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			((EvoTypesNestedData) o).setLongAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setLongAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedShortAttributeExtractor extends AbstractShortExtractor
+	{
+		public short shortValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			((EvoTypesNestedData) o).setShortAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setShortAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedStringAttributeExtractor extends AbstractStringExtractor
+	{
+		public String stringValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			((EvoTypesNestedData) o).setStringAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isStringAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setStringAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedTimestampAttributeExtractor extends AbstractTimestampExtractor
+	{
+		public Timestamp timestampValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			((EvoTypesNestedData) o).setTimestampAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesNestedData) o).isTimestampAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesNestedData) o).setTimestampAttributeNull();
+		}
+	}
+
+	public static class EvoTypesNestedLeafEvoExtractor implements EvoTypesLeaf.EvoTypesLeafExtractor
+	{
+		public EvoTypesLeaf evoTypesLeafValueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getLeafEvo();
+		}
+
+		public void setEvoTypesLeafValue(Object o, EvoTypesLeaf leafEvo)
+		{
+			((EvoTypesNestedData) o).copyLeafEvo(leafEvo);
+		}
+
+		public void setEvoTypesLeafValueUntil(Object o, EvoTypesLeaf leafEvo, Timestamp exclusiveUntil)
+		{
+			throw new UnsupportedOperationException("setEvoTypesLeafValueUntil should not be called on transient objects.");
+		}
+	}
+
+	public static class OrderStatusExtractor extends NonPrimitiveExtractor
+	{
+		public Object valueOf(Object o)
+		{
+			return ((EvoTypesNestedData) o).getOrderStatus();
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			((EvoTypesNestedData) o).setOrderStatus((OrderStatus) o);
+		}
+	}
+}
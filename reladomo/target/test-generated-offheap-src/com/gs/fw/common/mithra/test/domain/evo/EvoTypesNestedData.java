@@ -0,0 +1,392 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.math.BigDecimal;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EvoTypesNestedData implements Serializable
+{
+	private byte isNullBits0;
+	private BigDecimal bigDecimalAttribute;
+	private boolean booleanAttribute;
+	private byte byteAttribute;
+	private char charAttribute;
+	private Date dateAttribute;
+	private double doubleAttribute;
+	private float floatAttribute;
+	private int intAttribute;
+	private long longAttribute;
+	private short shortAttribute;
+	private String stringAttribute;
+	private Timestamp timestampAttribute;
+	private final EvoTypesLeaf leafEvo = new EvoTypesLeaf();
+	private OrderStatus orderStatus;
+	public BigDecimal getBigDecimalAttribute()
+	{
+		return this.bigDecimalAttribute;
+	}
+
+	public void setBigDecimalAttribute(BigDecimal bigDecimalAttribute)
+	{
+		this.bigDecimalAttribute = bigDecimalAttribute;
+	}
+
+	public boolean isBigDecimalAttributeNull()
+	{
+		return this.getBigDecimalAttribute() == null;
+	}
+
+	public void setBigDecimalAttributeNull()
+	{
+		this.setBigDecimalAttribute(null);
+	}
+
+	public void setBigDecimalAttributeUntil(BigDecimal bigDecimalAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setBigDecimalAttributeUntil is not supported on transient objects.");
+	}
+
+	public boolean getBooleanAttribute()
+	{
+		return this.booleanAttribute;
+	}
+
+	public void setBooleanAttribute(boolean booleanAttribute)
+	{
+		this.booleanAttribute = booleanAttribute;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setBooleanAttributeUntil(boolean booleanAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setBooleanAttributeUntil is not supported on transient objects.");
+	}
+
+	public byte getByteAttribute()
+	{
+		return this.byteAttribute;
+	}
+
+	public void setByteAttribute(byte byteAttribute)
+	{
+		this.byteAttribute = byteAttribute;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void setByteAttributeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setByteAttributeUntil(byte byteAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setByteAttributeUntil is not supported on transient objects.");
+	}
+
+	public char getCharAttribute()
+	{
+		return this.charAttribute;
+	}
+
+	public void setCharAttribute(char charAttribute)
+	{
+		this.charAttribute = charAttribute;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void setCharAttributeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setCharAttributeUntil(char charAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setCharAttributeUntil is not supported on transient objects.");
+	}
+
+	public Date getDateAttribute()
+	{
+		return this.dateAttribute;
+	}
+
+	public void setDateAttribute(Date dateAttribute)
+	{
+		this.dateAttribute = dateAttribute;
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return this.getDateAttribute() == null;
+	}
+
+	public void setDateAttributeNull()
+	{
+		this.setDateAttribute(null);
+	}
+
+	public void setDateAttributeUntil(Date dateAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setDateAttributeUntil is not supported on transient objects.");
+	}
+
+	public double getDoubleAttribute()
+	{
+		return this.doubleAttribute;
+	}
+
+	public void setDoubleAttribute(double doubleAttribute)
+	{
+		this.doubleAttribute = doubleAttribute;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setDoubleAttributeUntil(double doubleAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setDoubleAttributeUntil is not supported on transient objects.");
+	}
+
+	public void incrementDoubleAttribute(double doubleAttribute)
+	{
+		throw new UnsupportedOperationException("incrementDoubleAttribute is not supported on transient objects.");
+	}
+
+	public void incrementDoubleAttributeUntil(double doubleAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("incrementDoubleAttributeUntil is not supported on transient objects.");
+	}
+
+	public float getFloatAttribute()
+	{
+		return this.floatAttribute;
+	}
+
+	public void setFloatAttribute(float floatAttribute)
+	{
+		this.floatAttribute = floatAttribute;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public void setFloatAttributeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setFloatAttributeUntil(float floatAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setFloatAttributeUntil is not supported on transient objects.");
+	}
+
+	public int getIntAttribute()
+	{
+		return this.intAttribute;
+	}
+
+	public void setIntAttribute(int intAttribute)
+	{
+		this.intAttribute = intAttribute;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public void setIntAttributeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setIntAttributeUntil(int intAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setIntAttributeUntil is not supported on transient objects.");
+	}
+
+	public long getLongAttribute()
+	{
+		return this.longAttribute;
+	}
+
+	public void setLongAttribute(long longAttribute)
+	{
+		this.longAttribute = longAttribute;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public void setLongAttributeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+	}
+
+	public void setLongAttributeUntil(long longAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setLongAttributeUntil is not supported on transient objects.");
+	}
+
+	public short getShortAttribute()
+	{
+		return this.shortAttribute;
+	}
+
+	public void setShortAttribute(short shortAttribute)
+	{
+		this.shortAttribute = shortAttribute;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public void setShortAttributeNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 7);
+	}
+
+	public void setShortAttributeUntil(short shortAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setShortAttributeUntil is not supported on transient objects.");
+	}
+
+	public String getStringAttribute()
+	{
+		return this.stringAttribute;
+	}
+
+	public void setStringAttribute(String stringAttribute)
+	{
+		this.stringAttribute = stringAttribute;
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.getStringAttribute() == null;
+	}
+
+	public void setStringAttributeNull()
+	{
+		this.setStringAttribute(null);
+	}
+
+	public void setStringAttributeUntil(String stringAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setStringAttributeUntil is not supported on transient objects.");
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		return this.timestampAttribute;
+	}
+
+	public void setTimestampAttribute(Timestamp timestampAttribute)
+	{
+		this.timestampAttribute = timestampAttribute;
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.getTimestampAttribute() == null;
+	}
+
+	public void setTimestampAttributeNull()
+	{
+		this.setTimestampAttribute(null);
+	}
+
+	public void setTimestampAttributeUntil(Timestamp timestampAttribute, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("setTimestampAttributeUntil is not supported on transient objects.");
+	}
+
+	public EvoTypesLeaf getLeafEvo()
+	{
+		return this.leafEvo;
+	}
+
+	public void copyLeafEvo(EvoTypesLeaf leafEvo)
+	{
+		this.leafEvo.setBigDecimalAttribute(leafEvo.getBigDecimalAttribute());
+		this.leafEvo.setBooleanAttribute(leafEvo.getBooleanAttribute());
+		this.leafEvo.setByteAttribute(leafEvo.getByteAttribute());
+		this.leafEvo.setCharAttribute(leafEvo.getCharAttribute());
+		this.leafEvo.setDateAttribute(leafEvo.getDateAttribute());
+		this.leafEvo.setDoubleAttribute(leafEvo.getDoubleAttribute());
+		this.leafEvo.setFloatAttribute(leafEvo.getFloatAttribute());
+		this.leafEvo.setIntAttribute(leafEvo.getIntAttribute());
+		this.leafEvo.setLongAttribute(leafEvo.getLongAttribute());
+		this.leafEvo.setShortAttribute(leafEvo.getShortAttribute());
+		this.leafEvo.setStringAttribute(leafEvo.getStringAttribute());
+		this.leafEvo.setTimestampAttribute(leafEvo.getTimestampAttribute());
+	}
+
+	public void copyLeafEvoUntil(EvoTypesLeaf leafEvo, Timestamp exclusiveUntil)
+	{
+		throw new UnsupportedOperationException("copyLeafEvoUntil is not supported on transient objects.");
+	}
+
+	public OrderStatus getOrderStatus()
+	{
+		return this.orderStatus;
+	}
+
+	public void setOrderStatus(OrderStatus orderStatus)
+	{
+		this.orderStatus = orderStatus;
+	}
+}
@@ -0,0 +1,937 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.Operation;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.math.BigDecimal;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/embeddedvalue/Abstract.jsp
+public abstract class EvoTypesTimeAbstract implements Serializable
+{
+	private static final EvoTypesTimeExtractors UNMANAGED_ATTRIBUTES = new UnmanagedEvoTypesTimeAttribute();
+	private final Object ref;
+	private final EvoTypesTimeExtractors attributes;
+	public EvoTypesTimeAbstract()
+	{
+		this.ref = new EvoTypesTimeData();
+		this.attributes = UNMANAGED_ATTRIBUTES;
+	}
+
+	protected EvoTypesTimeAbstract(MithraObject ref, EvoTypesTimeExtractors attributes)
+	{
+		this.ref = ref;
+		this.attributes = attributes;
+	}
+
+	public static EvoTypesTime managedInstance(MithraObject ref, EvoTypesTimeExtractors attributes)
+	{
+		return new EvoTypesTime(ref, attributes);
+	}
+
+	public BigDecimal getBigDecimalAttribute()
+	{
+		return this.attributes.bigDecimalAttribute().bigDecimalValueOf(ref);
+	}
+
+	public void setBigDecimalAttribute(BigDecimal bigDecimalAttribute)
+	{
+		this.attributes.bigDecimalAttribute().setBigDecimalValue(ref, bigDecimalAttribute);
+	}
+
+	public boolean isBigDecimalAttributeNull()
+	{
+		return this.attributes.bigDecimalAttribute().isAttributeNull(ref);
+	}
+
+	public void setBigDecimalAttributeNull()
+	{
+		this.attributes.bigDecimalAttribute().setValueNull(ref);
+	}
+
+	public void setBigDecimalAttributeUntil(BigDecimal bigDecimalAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.bigDecimalAttribute().setValueUntil(ref, bigDecimalAttribute, exclusiveUntil);
+	}
+
+	public void incrementBigDecimalAttribute(BigDecimal bigDecimalAttribute)
+	{
+		BigDecimalExtractor extractor = this.attributes.bigDecimalAttribute();
+		extractor.increment(ref, bigDecimalAttribute);
+	}
+
+	public void incrementBigDecimalAttributeUntil(BigDecimal bigDecimalAttribute, Timestamp exclusiveUntil)
+	{
+		BigDecimalExtractor extractor = this.attributes.bigDecimalAttribute();
+		extractor.incrementUntil(ref, bigDecimalAttribute, exclusiveUntil);
+	}
+
+	public boolean getBooleanAttribute()
+	{
+		return this.attributes.booleanAttribute().booleanValueOf(ref);
+	}
+
+	public void setBooleanAttribute(boolean booleanAttribute)
+	{
+		this.attributes.booleanAttribute().setBooleanValue(ref, booleanAttribute);
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return this.attributes.booleanAttribute().isAttributeNull(ref);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		this.attributes.booleanAttribute().setValueNull(ref);
+	}
+
+	public void setBooleanAttributeUntil(boolean booleanAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.booleanAttribute().setValueUntil(ref, booleanAttribute, exclusiveUntil);
+	}
+
+	public byte getByteAttribute()
+	{
+		return this.attributes.byteAttribute().byteValueOf(ref);
+	}
+
+	public void setByteAttribute(byte byteAttribute)
+	{
+		this.attributes.byteAttribute().setByteValue(ref, byteAttribute);
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return this.attributes.byteAttribute().isAttributeNull(ref);
+	}
+
+	public void setByteAttributeNull()
+	{
+		this.attributes.byteAttribute().setValueNull(ref);
+	}
+
+	public void setByteAttributeUntil(byte byteAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.byteAttribute().setValueUntil(ref, byteAttribute, exclusiveUntil);
+	}
+
+	public char getCharAttribute()
+	{
+		return this.attributes.charAttribute().charValueOf(ref);
+	}
+
+	public void setCharAttribute(char charAttribute)
+	{
+		this.attributes.charAttribute().setCharValue(ref, charAttribute);
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return this.attributes.charAttribute().isAttributeNull(ref);
+	}
+
+	public void setCharAttributeNull()
+	{
+		this.attributes.charAttribute().setValueNull(ref);
+	}
+
+	public void setCharAttributeUntil(char charAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.charAttribute().setValueUntil(ref, charAttribute, exclusiveUntil);
+	}
+
+	public Date getDateAttribute()
+	{
+		return this.attributes.dateAttribute().dateValueOf(ref);
+	}
+
+	public void setDateAttribute(Date dateAttribute)
+	{
+		this.attributes.dateAttribute().setDateValue(ref, dateAttribute);
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return this.attributes.dateAttribute().isAttributeNull(ref);
+	}
+
+	public void setDateAttributeNull()
+	{
+		this.attributes.dateAttribute().setValueNull(ref);
+	}
+
+	public void setDateAttributeUntil(Date dateAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.dateAttribute().setValueUntil(ref, dateAttribute, exclusiveUntil);
+	}
+
+	public double getDoubleAttribute()
+	{
+		return this.attributes.doubleAttribute().doubleValueOf(ref);
+	}
+
+	public void setDoubleAttribute(double doubleAttribute)
+	{
+		this.attributes.doubleAttribute().setDoubleValue(ref, doubleAttribute);
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return this.attributes.doubleAttribute().isAttributeNull(ref);
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		this.attributes.doubleAttribute().setValueNull(ref);
+	}
+
+	public void setDoubleAttributeUntil(double doubleAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.doubleAttribute().setValueUntil(ref, doubleAttribute, exclusiveUntil);
+	}
+
+	public void incrementDoubleAttribute(double doubleAttribute)
+	{
+		DoubleExtractor extractor = this.attributes.doubleAttribute();
+		extractor.increment(ref, doubleAttribute);
+	}
+
+	public void incrementDoubleAttributeUntil(double doubleAttribute, Timestamp exclusiveUntil)
+	{
+		DoubleExtractor extractor = this.attributes.doubleAttribute();
+		extractor.incrementUntil(ref, doubleAttribute, exclusiveUntil);
+	}
+
+	public float getFloatAttribute()
+	{
+		return this.attributes.floatAttribute().floatValueOf(ref);
+	}
+
+	public void setFloatAttribute(float floatAttribute)
+	{
+		this.attributes.floatAttribute().setFloatValue(ref, floatAttribute);
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return this.attributes.floatAttribute().isAttributeNull(ref);
+	}
+
+	public void setFloatAttributeNull()
+	{
+		this.attributes.floatAttribute().setValueNull(ref);
+	}
+
+	public void setFloatAttributeUntil(float floatAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.floatAttribute().setValueUntil(ref, floatAttribute, exclusiveUntil);
+	}
+
+	public int getIntAttribute()
+	{
+		return this.attributes.intAttribute().intValueOf(ref);
+	}
+
+	public void setIntAttribute(int intAttribute)
+	{
+		this.attributes.intAttribute().setIntValue(ref, intAttribute);
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return this.attributes.intAttribute().isAttributeNull(ref);
+	}
+
+	public void setIntAttributeNull()
+	{
+		this.attributes.intAttribute().setValueNull(ref);
+	}
+
+	public void setIntAttributeUntil(int intAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.intAttribute().setValueUntil(ref, intAttribute, exclusiveUntil);
+	}
+
+	public long getLongAttribute()
+	{
+		return this.attributes.longAttribute().longValueOf(ref);
+	}
+
+	public void setLongAttribute(long longAttribute)
+	{
+		this.attributes.longAttribute().setLongValue(ref, longAttribute);
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return this.attributes.longAttribute().isAttributeNull(ref);
+	}
+
+	public void setLongAttributeNull()
+	{
+		this.attributes.longAttribute().setValueNull(ref);
+	}
+
+	public void setLongAttributeUntil(long longAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.longAttribute().setValueUntil(ref, longAttribute, exclusiveUntil);
+	}
+
+	public short getShortAttribute()
+	{
+		return this.attributes.shortAttribute().shortValueOf(ref);
+	}
+
+	public void setShortAttribute(short shortAttribute)
+	{
+		this.attributes.shortAttribute().setShortValue(ref, shortAttribute);
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return this.attributes.shortAttribute().isAttributeNull(ref);
+	}
+
+	public void setShortAttributeNull()
+	{
+		this.attributes.shortAttribute().setValueNull(ref);
+	}
+
+	public void setShortAttributeUntil(short shortAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.shortAttribute().setValueUntil(ref, shortAttribute, exclusiveUntil);
+	}
+
+	public String getStringAttribute()
+	{
+		return this.attributes.stringAttribute().stringValueOf(ref);
+	}
+
+	public void setStringAttribute(String stringAttribute)
+	{
+		this.attributes.stringAttribute().setStringValue(ref, stringAttribute);
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.attributes.stringAttribute().isAttributeNull(ref);
+	}
+
+	public void setStringAttributeNull()
+	{
+		this.attributes.stringAttribute().setValueNull(ref);
+	}
+
+	public void setStringAttributeUntil(String stringAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.stringAttribute().setValueUntil(ref, stringAttribute, exclusiveUntil);
+	}
+
+	public Time getTimeAttribute()
+	{
+		return this.attributes.timeAttribute().timeValueOf(ref);
+	}
+
+	public void setTimeAttribute(Time timeAttribute)
+	{
+		this.attributes.timeAttribute().setTimeValue(ref, timeAttribute);
+	}
+
+	public boolean isTimeAttributeNull()
+	{
+		return this.attributes.timeAttribute().isAttributeNull(ref);
+	}
+
+	public void setTimeAttributeNull()
+	{
+		this.attributes.timeAttribute().setValueNull(ref);
+	}
+
+	public void setTimeAttributeUntil(Time timeAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.timeAttribute().setValueUntil(ref, timeAttribute, exclusiveUntil);
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		return this.attributes.timestampAttribute().timestampValueOf(ref);
+	}
+
+	public void setTimestampAttribute(Timestamp timestampAttribute)
+	{
+		this.attributes.timestampAttribute().setTimestampValue(ref, timestampAttribute);
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.attributes.timestampAttribute().isAttributeNull(ref);
+	}
+
+	public void setTimestampAttributeNull()
+	{
+		this.attributes.timestampAttribute().setValueNull(ref);
+	}
+
+	public void setTimestampAttributeUntil(Timestamp timestampAttribute, Timestamp exclusiveUntil)
+	{
+		this.attributes.timestampAttribute().setValueUntil(ref, timestampAttribute, exclusiveUntil);
+	}
+
+	public boolean equals(Object o)
+	{
+		if (this == o) return true;
+		if (o == null || this.getClass() != o.getClass()) return false;
+		final EvoTypesTime other = (EvoTypesTime) o;
+		if (this.getBigDecimalAttribute() != null ? !this.getBigDecimalAttribute().equals(other.getBigDecimalAttribute()) : other.getBigDecimalAttribute() != null) return false;
+		if (this.getBooleanAttribute() != other.getBooleanAttribute()) return false;
+		if (this.getByteAttribute() != other.getByteAttribute()) return false;
+		if (this.getCharAttribute() != other.getCharAttribute()) return false;
+		if (this.getDateAttribute() != null ? !this.getDateAttribute().equals(other.getDateAttribute()) : other.getDateAttribute() != null) return false;
+		if (this.getDoubleAttribute() != other.getDoubleAttribute()) return false;
+		if (this.getFloatAttribute() != other.getFloatAttribute()) return false;
+		if (this.getIntAttribute() != other.getIntAttribute()) return false;
+		if (this.getLongAttribute() != other.getLongAttribute()) return false;
+		if (this.getShortAttribute() != other.getShortAttribute()) return false;
+		if (this.getStringAttribute() != null ? !this.getStringAttribute().equals(other.getStringAttribute()) : other.getStringAttribute() != null) return false;
+		if (this.getTimeAttribute() != null ? !this.getTimeAttribute().equals(other.getTimeAttribute()) : other.getTimeAttribute() != null) return false;
+		if (this.getTimestampAttribute() != null ? !this.getTimestampAttribute().equals(other.getTimestampAttribute()) : other.getTimestampAttribute() != null) return false;
+		return true;
+	}
+
+	public int hashCode()
+	{
+		int result = 17;
+		result *= 37 + (this.getBigDecimalAttribute() != null ? this.getBigDecimalAttribute().hashCode() : 0);
+		result *= 37 + (this.getBooleanAttribute() ? 0 : 1);
+		result *= 37 + (int) this.getByteAttribute();
+		result *= 37 + (int) this.getCharAttribute();
+		result *= 37 + (this.getDateAttribute() != null ? this.getDateAttribute().hashCode() : 0);
+		final long l0 = Double.doubleToLongBits(this.getDoubleAttribute());
+		result *= 37 + (int) (l0 ^ (l0 >>> 32));
+		result *= 37 + Float.floatToIntBits(this.getFloatAttribute());
+		result *= 37 + this.getIntAttribute();
+		result *= 37 + (int) (this.getLongAttribute() ^ (getLongAttribute() >>> 32));
+		result *= 37 + (int) this.getShortAttribute();
+		result *= 37 + (this.getStringAttribute() != null ? this.getStringAttribute().hashCode() : 0);
+		result *= 37 + (this.getTimeAttribute() != null ? this.getTimeAttribute().hashCode() : 0);
+		result *= 37 + (this.getTimestampAttribute() != null ? this.getTimestampAttribute().hashCode() : 0);
+		return result;
+	}
+
+	public static interface EvoTypesTimeExtractor
+	{
+		public EvoTypesTime evoTypesTimeValueOf(Object o);
+		public void setEvoTypesTimeValue(Object o, EvoTypesTime evoTypesTime);
+		public void setEvoTypesTimeValueUntil(Object o, EvoTypesTime evoTypesTime, Timestamp exclusiveUntil);
+	}
+
+	public static interface EvoTypesTimeExtractors
+	{
+		public BigDecimalExtractor bigDecimalAttribute();
+		public BooleanExtractor booleanAttribute();
+		public ByteExtractor byteAttribute();
+		public CharExtractor charAttribute();
+		public DateExtractor dateAttribute();
+		public DoubleExtractor doubleAttribute();
+		public FloatExtractor floatAttribute();
+		public IntExtractor intAttribute();
+		public LongExtractor longAttribute();
+		public ShortExtractor shortAttribute();
+		public StringExtractor stringAttribute();
+		public TimeExtractor timeAttribute();
+		public TimestampExtractor timestampAttribute();
+	}
+
+	public static abstract class ManagedEvoTypesTimeAttribute implements EvoTypesTimeExtractor, EvoTypesTimeExtractors, EmbeddedValueExtractor
+	{
+		public Object valueOf(Object o)
+		{
+			return this.evoTypesTimeValueOf(o);
+		}
+
+		public void setValue(Object o, Object newValue)
+		{
+			this.setEvoTypesTimeValue(o, (EvoTypesTime) newValue);
+		}
+		//TODO: ledav check whether to override this
+		public void setValueNull(Object o)
+		{
+			throw new UnsupportedOperationException("setValueNull should not be called on embedded value objects.");
+		}
+
+		public Operation eq(EvoTypesTime evoTypesTime)
+		{
+			ManagedEvoTypesTimeAttribute evoTypesTimeAttribute = this.retrieveAttribute();
+			Operation op1 = evoTypesTimeAttribute.bigDecimalAttribute().eq(evoTypesTime.getBigDecimalAttribute());
+			Operation op2 = evoTypesTimeAttribute.booleanAttribute().eq(evoTypesTime.getBooleanAttribute());
+			Operation op3 = evoTypesTimeAttribute.byteAttribute().eq(evoTypesTime.getByteAttribute());
+			Operation op4 = evoTypesTimeAttribute.charAttribute().eq(evoTypesTime.getCharAttribute());
+			Operation op5 = evoTypesTimeAttribute.dateAttribute().eq(evoTypesTime.getDateAttribute());
+			Operation op6 = evoTypesTimeAttribute.doubleAttribute().eq(evoTypesTime.getDoubleAttribute());
+			Operation op7 = evoTypesTimeAttribute.floatAttribute().eq(evoTypesTime.getFloatAttribute());
+			Operation op8 = evoTypesTimeAttribute.intAttribute().eq(evoTypesTime.getIntAttribute());
+			Operation op9 = evoTypesTimeAttribute.longAttribute().eq(evoTypesTime.getLongAttribute());
+			Operation op10 = evoTypesTimeAttribute.shortAttribute().eq(evoTypesTime.getShortAttribute());
+			Operation op11 = evoTypesTimeAttribute.stringAttribute().eq(evoTypesTime.getStringAttribute());
+			Operation op12 = evoTypesTimeAttribute.timeAttribute().eq(evoTypesTime.getTimeAttribute());
+			Operation op13 = evoTypesTimeAttribute.timestampAttribute().eq(evoTypesTime.getTimestampAttribute());
+			return op1
+			.and(op2)
+			.and(op3)
+			.and(op4)
+			.and(op5)
+			.and(op6)
+			.and(op7)
+			.and(op8)
+			.and(op9)
+			.and(op10)
+			.and(op11)
+			.and(op12)
+			.and(op13)
+			;
+		}
+
+		public Operation notEq(EvoTypesTime evoTypesTime)
+		{
+			ManagedEvoTypesTimeAttribute evoTypesTimeAttribute = this.retrieveAttribute();
+			Operation op1 = evoTypesTimeAttribute.bigDecimalAttribute().notEq(evoTypesTime.getBigDecimalAttribute());
+			Operation op2 = evoTypesTimeAttribute.booleanAttribute().notEq(evoTypesTime.getBooleanAttribute());
+			Operation op3 = evoTypesTimeAttribute.byteAttribute().notEq(evoTypesTime.getByteAttribute());
+			Operation op4 = evoTypesTimeAttribute.charAttribute().notEq(evoTypesTime.getCharAttribute());
+			Operation op5 = evoTypesTimeAttribute.dateAttribute().notEq(evoTypesTime.getDateAttribute());
+			Operation op6 = evoTypesTimeAttribute.doubleAttribute().notEq(evoTypesTime.getDoubleAttribute());
+			Operation op7 = evoTypesTimeAttribute.floatAttribute().notEq(evoTypesTime.getFloatAttribute());
+			Operation op8 = evoTypesTimeAttribute.intAttribute().notEq(evoTypesTime.getIntAttribute());
+			Operation op9 = evoTypesTimeAttribute.longAttribute().notEq(evoTypesTime.getLongAttribute());
+			Operation op10 = evoTypesTimeAttribute.shortAttribute().notEq(evoTypesTime.getShortAttribute());
+			Operation op11 = evoTypesTimeAttribute.stringAttribute().notEq(evoTypesTime.getStringAttribute());
+			Operation op12 = evoTypesTimeAttribute.timeAttribute().notEq(evoTypesTime.getTimeAttribute());
+			Operation op13 = evoTypesTimeAttribute.timestampAttribute().notEq(evoTypesTime.getTimestampAttribute());
+			return op1
+			.or(op2)
+			.or(op3)
+			.or(op4)
+			.or(op5)
+			.or(op6)
+			.or(op7)
+			.or(op8)
+			.or(op9)
+			.or(op10)
+			.or(op11)
+			.or(op12)
+			.or(op13)
+			;
+		}
+
+		public abstract BigDecimalAttribute bigDecimalAttribute();
+		public abstract BooleanAttribute booleanAttribute();
+		public abstract ByteAttribute byteAttribute();
+		public abstract CharAttribute charAttribute();
+		public abstract DateAttribute dateAttribute();
+		public abstract DoubleAttribute doubleAttribute();
+		public abstract FloatAttribute floatAttribute();
+		public abstract IntegerAttribute intAttribute();
+		public abstract LongAttribute longAttribute();
+		public abstract ShortAttribute shortAttribute();
+		public abstract StringAttribute stringAttribute();
+		public abstract TimeAttribute timeAttribute();
+		public abstract TimestampAttribute timestampAttribute();
+		protected abstract ManagedEvoTypesTimeAttribute retrieveAttribute();
+	}
+
+	public static class UnmanagedEvoTypesTimeAttribute implements EvoTypesTimeExtractors
+	{
+		private final BigDecimalExtractor bigDecimalAttributeExtractor = new EvoTypesTimeBigDecimalAttributeExtractor();
+		private final BooleanExtractor booleanAttributeExtractor = new EvoTypesTimeBooleanAttributeExtractor();
+		private final ByteExtractor byteAttributeExtractor = new EvoTypesTimeByteAttributeExtractor();
+		private final CharExtractor charAttributeExtractor = new EvoTypesTimeCharAttributeExtractor();
+		private final DateExtractor dateAttributeExtractor = new EvoTypesTimeDateAttributeExtractor();
+		private final DoubleExtractor doubleAttributeExtractor = new EvoTypesTimeDoubleAttributeExtractor();
+		private final FloatExtractor floatAttributeExtractor = new EvoTypesTimeFloatAttributeExtractor();
+		private final IntExtractor intAttributeExtractor = new EvoTypesTimeIntAttributeExtractor();
+		private final LongExtractor longAttributeExtractor = new EvoTypesTimeLongAttributeExtractor();
+		private final ShortExtractor shortAttributeExtractor = new EvoTypesTimeShortAttributeExtractor();
+		private final StringExtractor stringAttributeExtractor = new EvoTypesTimeStringAttributeExtractor();
+		private final TimeExtractor timeAttributeExtractor = new EvoTypesTimeTimeAttributeExtractor();
+		private final TimestampExtractor timestampAttributeExtractor = new EvoTypesTimeTimestampAttributeExtractor();
+		public BigDecimalExtractor bigDecimalAttribute()
+		{
+			return this.bigDecimalAttributeExtractor;
+		}
+
+		public BooleanExtractor booleanAttribute()
+		{
+			return this.booleanAttributeExtractor;
+		}
+
+		public ByteExtractor byteAttribute()
+		{
+			return this.byteAttributeExtractor;
+		}
+
+		public CharExtractor charAttribute()
+		{
+			return this.charAttributeExtractor;
+		}
+
+		public DateExtractor dateAttribute()
+		{
+			return this.dateAttributeExtractor;
+		}
+
+		public DoubleExtractor doubleAttribute()
+		{
+			return this.doubleAttributeExtractor;
+		}
+
+		public FloatExtractor floatAttribute()
+		{
+			return this.floatAttributeExtractor;
+		}
+
+		public IntExtractor intAttribute()
+		{
+			return this.intAttributeExtractor;
+		}
+
+		public LongExtractor longAttribute()
+		{
+			return this.longAttributeExtractor;
+		}
+
+		public ShortExtractor shortAttribute()
+		{
+			return this.shortAttributeExtractor;
+		}
+
+		public StringExtractor stringAttribute()
+		{
+			return this.stringAttributeExtractor;
+		}
+
+		public TimeExtractor timeAttribute()
+		{
+			return this.timeAttributeExtractor;
+		}
+
+		public TimestampExtractor timestampAttribute()
+		{
+			return this.timestampAttributeExtractor;
+		}
+	}
+
+	public static class EvoTypesTimeBigDecimalAttributeExtractor extends AbstractBigDecimalExtractor
+	{
+		public BigDecimal bigDecimalValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getBigDecimalAttribute();
+		}
+
+		public void setBigDecimalValue(Object o, BigDecimal newValue)
+		{
+			((EvoTypesTimeData) o).setBigDecimalAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isBigDecimalAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setBigDecimalAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeBooleanAttributeExtractor extends AbstractBooleanExtractor
+	{
+		public boolean booleanValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getBooleanAttribute();
+		}
+
+		public void setBooleanValue(Object o, boolean newValue)
+		{
+			((EvoTypesTimeData) o).setBooleanAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isBooleanAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setBooleanAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeByteAttributeExtractor extends AbstractByteExtractor
+	{
+		public byte byteValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getByteAttribute();
+		}
+
+		public void setByteValue(Object o, byte newValue)
+		{
+			((EvoTypesTimeData) o).setByteAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isByteAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setByteAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeCharAttributeExtractor extends AbstractCharExtractor
+	{
+		public char charValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getCharAttribute();
+		}
+
+		public void setCharValue(Object o, char newValue)
+		{
+			((EvoTypesTimeData) o).setCharAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isCharAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setCharAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeDateAttributeExtractor extends AbstractDateExtractor
+	{
+		public Date dateValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getDateAttribute();
+		}
+
+		public void setDateValue(Object o, Date newValue)
+		{
+			((EvoTypesTimeData) o).setDateAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isDateAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setDateAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeDoubleAttributeExtractor extends AbstractDoubleExtractor
+	{
+		public double doubleValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getDoubleAttribute();
+		}
+
+		public void setDoubleValue(Object o, double newValue)
+		{
+			((EvoTypesTimeData) o).setDoubleAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isDoubleAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setDoubleAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeFloatAttributeExtractor extends AbstractFloatExtractor
+	{
+		public float floatValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getFloatAttribute();
+		}
+
+		public void setFloatValue(Object o, float newValue)
+		{
+			((EvoTypesTimeData) o).setFloatAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isFloatAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setFloatAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeIntAttributeExtractor extends AbstractIntExtractor
+	{
+		public int intValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getIntAttribute();
+		}
+
+		public void setIntValue(Object o, int newValue)
+		{
+			((EvoTypesTimeData) o).setIntAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isIntAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setIntAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeLongAttributeExtractor extends AbstractLongExtractor
+	{
+		public long longValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getLongAttribute();
+		}
+
+		public void setLongValue(Object o, long newValue)
+		{
+			((EvoTypesTimeData) o).setLongAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isLongAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setLongAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeShortAttributeExtractor extends AbstractShortExtractor
+	{
+		public short shortValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getShortAttribute();
+		}
+
+		public void setShortValue(Object o, short newValue)
+		{
+			((EvoTypesTimeData) o).setShortAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isShortAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setShortAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeStringAttributeExtractor extends AbstractStringExtractor
+	{
+		public String stringValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getStringAttribute();
+		}
+
+		public void setStringValue(Object o, String newValue)
+		{
+			((EvoTypesTimeData) o).setStringAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isStringAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setStringAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeTimeAttributeExtractor extends AbstractTimeExtractor
+	{
+		public Time timeValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getTimeAttribute();
+		}
+
+		public void setTimeValue(Object o, Time newValue)
+		{
+			((EvoTypesTimeData) o).setTimeAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isTimeAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setTimeAttributeNull();
+		}
+	}
+
+	public static class EvoTypesTimeTimestampAttributeExtractor extends AbstractTimestampExtractor
+	{
+		public Timestamp timestampValueOf(Object o)
+		{
+			return ((EvoTypesTimeData) o).getTimestampAttribute();
+		}
+
+		public void setTimestampValue(Object o, Timestamp newValue)
+		{
+			((EvoTypesTimeData) o).setTimestampAttribute(newValue);
+		}
+
+		public boolean isAttributeNull(Object o)
+		{
+			return ((EvoTypesTimeData) o).isTimestampAttributeNull();
+		}
+
+		public void setValueNull(Object o)
+		{
+			((EvoTypesTimeData) o).setTimestampAttributeNull();
+		}
+	}
+}
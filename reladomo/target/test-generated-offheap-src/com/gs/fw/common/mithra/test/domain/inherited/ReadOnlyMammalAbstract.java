@@ -0,0 +1,207 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ReadOnlyMammalAbstract extends com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyAnimal
+implements MithraObject, Serializable
+{
+	private byte isNullBits0a = 0;
+	private double bodyTemp;
+	public boolean isBodyTempNull()
+	{
+		return (isNullBits0a & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		super.zSerializeFullData(out);
+		zWriteNullBits(out);
+		out.writeDouble(this.bodyTemp);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0a);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ReadOnlyMammalData data = new ReadOnlyMammalData();
+		((ReadOnlyAnimalData)super.zGetCurrentData()).copyInto(data, false);
+		data.setBodyTemp(bodyTemp);
+		data.zSetIsNullBits0a(this.isNullBits0a);
+		return data;
+	}
+
+	public ReadOnlyMammal getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ReadOnlyMammalAbstract copy = (ReadOnlyMammalAbstract) ReadOnlyMammalFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ReadOnlyMammal)copy;
+	}
+
+	protected void zSetFromReadOnlyMammalData(ReadOnlyMammalData data)
+	{
+		this.setFromReadOnlyMammalData(data);
+	}
+
+	public void setFromReadOnlyMammalData(ReadOnlyMammalData data)
+	{
+		super.setFromReadOnlyAnimalData(data);
+		bodyTemp = data.getBodyTemp();
+		this.isNullBits0a = data.zGetIsNullBits0a();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReadOnlyMammalFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromReadOnlyMammalData((ReadOnlyMammalData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public double getBodyTemp()
+	{
+		if (isBodyTempNull()) throwNullPrimitiveException("bodyTemp");
+		return this.bodyTemp;
+	}
+
+	public void setBodyTemp(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.bodyTemp = value;
+		isNullBits0a = (byte)((int)isNullBits0a & ~( 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setBodyTempNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0a = (byte)((int)isNullBits0a | 1);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		if (super.zChanged(newData)) return true;
+		final ReadOnlyMammalData readOnlyMammalData = (ReadOnlyMammalData) newData;
+		if (isNullBits0a != readOnlyMammalData.zGetIsNullBits0a())
+		{
+			return true;
+		}
+
+		if (bodyTemp != readOnlyMammalData.getBodyTemp())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+		out.writeObject("com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMammalData");
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		super.zReadObject(in);
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		if (fullData)
+		{
+			this.isNullBits0a = in.readByte();
+			this.bodyTemp = in.readDouble();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ReadOnlyMammalFinder.animalId().eq(this.getAnimalId());
+			return ReadOnlyMammalFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,201 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReadOnlyMammalData
+extends ReadOnlyAnimalData
+implements MithraDataObject
+{
+	private static final RelatedFinder[] _allFinders = new RelatedFinder[] 
+	{
+		ReadOnlyAnimalFinder.getFinderInstance(),
+			ReadOnlyMammalFinder.getFinderInstance()
+	}
+
+	;
+	private byte isNullBits0a = 0;
+	private double bodyTemp;
+	public boolean isBodyTempNull()
+	{
+		return (isNullBits0a & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		super.zSerializeFullData(out);
+		zWriteNullBits(out);
+		out.writeDouble(this.bodyTemp);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0a);
+	}
+
+	public double getBodyTemp()
+	{
+		return this.bodyTemp;
+	}
+
+	public void setBodyTemp(double value)
+	{
+		this.bodyTemp = value;
+		isNullBits0a = (byte)((int)isNullBits0a & ~( 1));
+	}
+
+	public void setBodyTempNull()
+	{
+		isNullBits0a = (byte)((int)isNullBits0a | 1);
+	}
+
+	public byte zGetIsNullBits0a()
+	{
+		return this.isNullBits0a;
+	}
+
+	public void zSetIsNullBits0a(byte newValue)
+	{
+		this.isNullBits0a = newValue;
+	}
+
+	protected void copyInto(ReadOnlyMammalData copy, boolean withRelationships)
+	{
+		super.copyInto(copy, withRelationships);
+		copy.isNullBits0a = this.isNullBits0a;
+		copy.bodyTemp = this.bodyTemp;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		super.zDeserializeFullData(in);
+		this.isNullBits0a = in.readByte();
+		this.bodyTemp = in.readDouble();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		super.copyNonPkAttributes(newData);
+		final ReadOnlyMammalData readOnlyMammalData = (ReadOnlyMammalData) newData;
+		this.setBodyTemp(readOnlyMammalData.getBodyTemp());
+		if (readOnlyMammalData.isBodyTempNull()) this.setBodyTempNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		if (super.zNonPrimaryKeyAttributesChanged(newData, toleranceForFloatingPointFields)) return true;
+		final ReadOnlyMammalData other = (ReadOnlyMammalData) newData;
+		if ( isBodyTempNull() != other.isBodyTempNull() || Math.abs(getBodyTemp() - other.getBodyTemp()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ReadOnlyMammalData copy = new ReadOnlyMammalData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ReadOnlyMammalData copy = new ReadOnlyMammalData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return _allFinders[hierarchyDepth].getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ReadOnlyMammalFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMammalData";
+	}
+}
@@ -0,0 +1,441 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ReadOnlyMammalDatabaseObjectAbstract extends MithraAbstractDatabaseObject implements MithraDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "BODY_TEMPERATURE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.\"NAME\",t0a.BODY_TEMPERATURE";
+	private static final String PK_WITH_ALIAS = "t0.ANIMAL_ID = ?";
+	private static final String PK_INDEX_COLS = "ANIMAL_ID";
+	protected ReadOnlyMammalDatabaseObjectAbstract()
+	{
+		super("ReadOnlyMammal", "com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMammalFinder",
+			8, 2,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReadOnlyMammalFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ReadOnlyMammalFinder.getFinderInstance();
+	}
+
+	public static ReadOnlyMammalData allocateOnHeapData()
+	{
+		return new ReadOnlyMammalData();
+	}
+
+	public static ReadOnlyMammalData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		java.lang.Class dataClass = com.gs.fw.common.mithra.remote.MithraSerialUtil.getDataClassToInstantiate((String) in.readObject());
+		MithraDataObject data = com.gs.fw.common.mithra.remote.MithraSerialUtil.instantiateData(dataClass);
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ReadOnlyMammalData data = new ReadOnlyMammalData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result = new TypedCache(ReadOnlyAnimalFinder.getMithraObjectPortal().getCache(), ReadOnlyMammal.class);
+		if (!result.isFullCache())
+		{
+			throw new RuntimeException("The type of parent and child cache must be the same. It's different for ReadOnlyMammal and ReadOnlyAnimal");
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result = new TypedCache(ReadOnlyAnimalFinder.getMithraObjectPortal().getCache(), ReadOnlyMammal.class);
+		if (!result.isPartialCache())
+		{
+			throw new RuntimeException("The type of parent and child cache must be the same. It's different for ReadOnlyMammal and ReadOnlyAnimal");
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ReadOnlyMammalFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ReadOnlyMammalFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateReadOnlyMammalData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkReadOnlyMammalData(1, (ReadOnlyMammalData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateReadOnlyMammalPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getReadOnlyMammalTableName();
+	}
+
+	public String getReadOnlyMammalTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ReadOnlyMammalData data = (ReadOnlyMammalData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAnimalId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ANIMAL_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0c.ANIMAL_ID,t0b.ANIMAL_ID,t0.ANIMAL_ID,t0.\"NAME\",t0a.BODY_TEMPERATURE,t0b.FARM,t0c.TAIL_LENGTH,t0c.ALPHA_MALE_DATE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*2);
+		result.append(databaseAlias).append(".").append("ANIMAL_ID");
+		result.append(",").append(databaseAlias).append(".").append("BODY_TEMPERATURE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ReadOnlyMammalData inflateReadOnlyMammalData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ReadOnlyMammalData data = inflateReadOnlyMammalPkData(rs, dt);
+		inflateNonPkReadOnlyMammalData(4, data, rs, dt);
+		return data;
+	}
+
+	public ReadOnlyMammalData inflateReadOnlyMammalPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		int _spos = 1;
+		ReadOnlyMammalData _data = null;
+		if (_data == null)
+		{
+			_rs.getInt(_spos);
+			if (!_rs.wasNull())
+			{
+				_data = new ReadOnlyMonkeyData();
+			}
+
+			_spos++;
+		}
+
+		if (_data == null)
+		{
+			_rs.getInt(_spos);
+			if (!_rs.wasNull())
+			{
+				_data = new ReadOnlyCowData();
+			}
+
+			_spos++;
+		}
+
+		if (_data == null)
+		{
+			_data = new ReadOnlyMammalData();
+		}
+
+		int _pos = 3;
+		_data.setAnimalId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "animalId");
+		return _data;
+	}
+
+	public void inflateNonPkReadOnlyMammalData(int _pos, ReadOnlyMammalData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ReadOnlyMammalData _data = _datax;
+			_data.setName(trimString(_rs.getString(_pos++)));
+			_data.setBodyTemp(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBodyTempNull();
+			}
+		}
+
+		if (_datax instanceof ReadOnlyCowData)
+		{
+			ReadOnlyCowData _data = (ReadOnlyCowData) _datax;
+			_data.setFarm(trimString(_rs.getString(_pos++)));
+		}
+		else
+		{
+			_pos += 1;
+		}
+
+		if (_datax instanceof ReadOnlyMonkeyData)
+		{
+			ReadOnlyMonkeyData _data = (ReadOnlyMonkeyData) _datax;
+			_data.setTailLength(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTailLengthNull();
+			}
+
+			Timestamp alphaMaleDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setAlphaMaleDate(alphaMaleDatetimestampValue);
+		}
+		else
+		{
+			_pos += 2;
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "READ_ONLY_MAMMAL";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ReadOnlyMammal newObject = constructReadOnlyMammal(newData);
+		if (newData instanceof ReadOnlyMonkeyData)
+		{
+			((ReadOnlyMonkey)newObject).zSetFromReadOnlyMonkeyData((ReadOnlyMonkeyData) newData);
+		}
+		else
+		if (newData instanceof ReadOnlyCowData)
+		{
+			((ReadOnlyCow)newObject).zSetFromReadOnlyCowData((ReadOnlyCowData) newData);
+		}
+		else
+		newObject.zSetFromReadOnlyMammalData((ReadOnlyMammalData) newData);
+		return newObject;
+	}
+
+	protected ReadOnlyMammal constructReadOnlyMammal(MithraDataObject data)
+	{
+		if (data instanceof ReadOnlyMonkeyData) return new ReadOnlyMonkey();
+		if (data instanceof ReadOnlyCowData) return new ReadOnlyCow();
+		return new ReadOnlyMammal();
+	}
+
+	public void analyzeChangeForReload(PrimaryKeyIndex fullUniqueIndex, MithraDataObject data, List newDataList, List updatedDataList)
+	{
+		ReadOnlyMammal object = fullUniqueIndex == null ? null : (ReadOnlyMammal) fullUniqueIndex.removeUsingUnderlying(data);
+		if (object == null)
+		{
+			newDataList.add(createObject(data));
+		}
+		else
+		{
+			if (object.zChanged(data))
+			{
+				updatedDataList.add(data);
+			}
+		}
+	}
+}
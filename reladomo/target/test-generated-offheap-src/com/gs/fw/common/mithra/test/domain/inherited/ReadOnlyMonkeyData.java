@@ -0,0 +1,238 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReadOnlyMonkeyData
+extends ReadOnlyMammalData
+implements MithraDataObject
+{
+	private static final RelatedFinder[] _allFinders = new RelatedFinder[] 
+	{
+		ReadOnlyAnimalFinder.getFinderInstance(),
+			ReadOnlyMammalFinder.getFinderInstance(),
+			ReadOnlyMonkeyFinder.getFinderInstance()
+	}
+
+	;
+	private byte isNullBits0c = 0;
+	private Timestamp alphaMaleDate;
+	private double tailLength;
+	public boolean isAlphaMaleDateNull()
+	{
+		return this.getAlphaMaleDate() == null;
+	}
+
+	public boolean isTailLengthNull()
+	{
+		return (isNullBits0c & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		super.zSerializeFullData(out);
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.alphaMaleDate);
+		out.writeDouble(this.tailLength);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0c);
+	}
+
+	public Timestamp getAlphaMaleDate()
+	{
+		return this.alphaMaleDate;
+	}
+
+	public long zGetAlphaMaleDateAsLong()
+	{
+		if (alphaMaleDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return alphaMaleDate.getTime();
+	}
+
+	public void setAlphaMaleDate(Timestamp value)
+	{
+		this.alphaMaleDate = TimestampPool.getInstance().getOrAddToCache(value, ReadOnlyMonkeyFinder.isFullCache(), ReadOnlyMonkeyFinder.isOffHeap());
+	}
+
+	public void setAlphaMaleDateNull()
+	{
+		this.setAlphaMaleDate(null);
+	}
+
+	public double getTailLength()
+	{
+		return this.tailLength;
+	}
+
+	public void setTailLength(double value)
+	{
+		this.tailLength = value;
+		isNullBits0c = (byte)((int)isNullBits0c & ~( 1));
+	}
+
+	public void setTailLengthNull()
+	{
+		isNullBits0c = (byte)((int)isNullBits0c | 1);
+	}
+
+	public byte zGetIsNullBits0c()
+	{
+		return this.isNullBits0c;
+	}
+
+	public void zSetIsNullBits0c(byte newValue)
+	{
+		this.isNullBits0c = newValue;
+	}
+
+	protected void copyInto(ReadOnlyMonkeyData copy, boolean withRelationships)
+	{
+		super.copyInto(copy, withRelationships);
+		copy.isNullBits0c = this.isNullBits0c;
+		copy.alphaMaleDate = this.alphaMaleDate;
+		copy.tailLength = this.tailLength;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		super.zDeserializeFullData(in);
+		this.isNullBits0c = in.readByte();
+		this.alphaMaleDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ReadOnlyMonkeyFinder.isFullCache(), ReadOnlyMonkeyFinder.isOffHeap());
+		this.tailLength = in.readDouble();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		super.copyNonPkAttributes(newData);
+		final ReadOnlyMonkeyData readOnlyMonkeyData = (ReadOnlyMonkeyData) newData;
+		this.setAlphaMaleDate(readOnlyMonkeyData.getAlphaMaleDate());
+		this.setTailLength(readOnlyMonkeyData.getTailLength());
+		if (readOnlyMonkeyData.isTailLengthNull()) this.setTailLengthNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		if (super.zNonPrimaryKeyAttributesChanged(newData, toleranceForFloatingPointFields)) return true;
+		final ReadOnlyMonkeyData other = (ReadOnlyMonkeyData) newData;
+		if (!isAlphaMaleDateNull() ? !getAlphaMaleDate().equals(other.getAlphaMaleDate()) : !other.isAlphaMaleDateNull())
+		{
+			return true;
+		}
+
+		if ( isTailLengthNull() != other.isTailLengthNull() || Math.abs(getTailLength() - other.getTailLength()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ReadOnlyMonkeyData copy = new ReadOnlyMonkeyData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ReadOnlyMonkeyData copy = new ReadOnlyMonkeyData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return _allFinders[hierarchyDepth].getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ReadOnlyMonkeyFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMonkeyData";
+	}
+}
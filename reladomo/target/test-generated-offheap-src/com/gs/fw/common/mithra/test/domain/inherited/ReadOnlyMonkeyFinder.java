@@ -0,0 +1,694 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ReadOnlyMonkeyFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/inherited/ReadOnlyMonkey";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMonkey";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMonkey");
+	private static final ReadOnlyMonkeySingleFinder<ReadOnlyMonkey, Object, ReadOnlyMonkey> finder = new ReadOnlyMonkeySingleFinder<ReadOnlyMonkey, Object, ReadOnlyMonkey>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ReadOnlyMonkeyFinder.ReadOnlyMonkeyRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("tailLength");
+		finderMethodMap.addNormalAttributeName("alphaMaleDate");
+		finderMethodMap.addNormalAttributeName("bodyTemp");
+		finderMethodMap.addNormalAttributeName("animalId");
+		finderMethodMap.addNormalAttributeName("name");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ReadOnlyMonkey findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ReadOnlyMonkey findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ReadOnlyMonkeyList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyMonkeyList) finder.findMany(operation);
+	}
+
+	public static ReadOnlyMonkeyList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ReadOnlyMonkeyList) finder.findManyBypassCache(operation);
+	}
+
+	private static ReadOnlyMonkey findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ReadOnlyMonkey) FinderUtils.findOne(found);
+	}
+
+	public static ReadOnlyMonkey findByPrimaryKey(int animalId)
+	{
+		return finder.findByPrimaryKey(animalId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ReadOnlyMonkey _castedTargetData = (ReadOnlyMonkey) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getAnimalId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ReadOnlyMonkey zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ReadOnlyMonkey) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ReadOnlyMonkeyRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends ReadOnlyMammalFinder.ReadOnlyMammalRelatedFinder<ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private DoubleAttribute<ParentOwnerType> tailLength;
+		private TimestampAttribute<ParentOwnerType> alphaMaleDate;
+		private DoubleAttribute<ParentOwnerType> bodyTemp;
+		private IntegerAttribute<ParentOwnerType> animalId;
+		private StringAttribute<ParentOwnerType> name;
+		public ReadOnlyMonkeyRelatedFinder()
+		{
+			super();
+		}
+
+		public ReadOnlyMonkeyRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMonkeyFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ReadOnlyMonkeyFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ReadOnlyMonkeyFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ReadOnlyMonkeyFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.animalId();
+			attributes[1] = this.tailLength();
+			attributes[2] = this.alphaMaleDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ReadOnlyMonkey findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyMonkeyFinder.findOne(operation, false);
+		}
+
+		public ReadOnlyMonkey findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ReadOnlyMonkeyFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ReadOnlyMonkey> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ReadOnlyMonkeyList((Operation) operation);
+		}
+
+		public MithraList<? extends ReadOnlyMonkey> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ReadOnlyMonkeyList result = (ReadOnlyMonkeyList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ReadOnlyMonkey> constructEmptyList()
+		{
+			return new ReadOnlyMonkeyList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1713759952;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 2;
+		}
+
+		public DoubleAttribute<ParentOwnerType> tailLength()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.tailLength;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TAIL_LENGTH","c","tailLength",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ReadOnlyMonkeyFinder.tailLength(), this.mapper, this.zGetValueSelector());
+				this.tailLength = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> alphaMaleDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.alphaMaleDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ALPHA_MALE_DATE","c","alphaMaleDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ReadOnlyMonkeyFinder.alphaMaleDate(), this.mapper, this.zGetValueSelector());
+				this.alphaMaleDate = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> bodyTemp()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.bodyTemp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("BODY_TEMPERATURE","a","bodyTemp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ReadOnlyMonkeyFinder.bodyTemp(), this.mapper, this.zGetValueSelector());
+				this.bodyTemp = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> animalId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.animalId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ANIMAL_ID","","animalId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ReadOnlyMonkeyFinder.animalId(), this.mapper, this.zGetValueSelector());
+				this.animalId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(ReadOnlyMonkeyFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ReadOnlyMonkeyFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ReadOnlyMonkeyFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ReadOnlyMonkeyCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ReadOnlyMonkeyRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyMonkeyList, OwnerType>
+	{
+		public ReadOnlyMonkeyCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ReadOnlyMonkeyCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ReadOnlyMonkeyCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyMonkeyCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ReadOnlyMonkeySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyMonkeyRelatedFinder<ParentOwnerType, ReturnType, ReadOnlyMonkeyList, OwnerType>
+	implements ToOneFinder
+	{
+		public ReadOnlyMonkeySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ReadOnlyMonkeySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ReadOnlyMonkey other)
+		{
+			return this.animalId().eq(other.getAnimalId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ReadOnlyMonkey findByPrimaryKey(int animalId)
+		{
+			ReadOnlyMonkey _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(animalId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ReadOnlyMonkey) _related;
+			if (_related == null)
+			{
+				_op = this.animalId().eq(animalId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ReadOnlyMonkeySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ReadOnlyMonkeySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ReadOnlyMonkeySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to READ_ONLY_MONKEY.TAIL_LENGTH **/
+	public static DoubleAttribute<ReadOnlyMonkey> tailLength()
+	{
+		return finder.tailLength();
+	}
+
+	/** maps to READ_ONLY_MONKEY.ALPHA_MALE_DATE **/
+	public static TimestampAttribute<ReadOnlyMonkey> alphaMaleDate()
+	{
+		return finder.alphaMaleDate();
+	}
+
+	/** maps to READ_ONLY_MONKEY.BODY_TEMPERATURE **/
+	public static DoubleAttribute<ReadOnlyMonkey> bodyTemp()
+	{
+		return finder.bodyTemp();
+	}
+
+	/** maps to READ_ONLY_MONKEY.ANIMAL_ID **/
+	public static IntegerAttribute<ReadOnlyMonkey> animalId()
+	{
+		return finder.animalId();
+	}
+
+	/** maps to READ_ONLY_MONKEY."NAME" **/
+	public static StringAttribute<ReadOnlyMonkey> name()
+	{
+		return finder.name();
+	}
+
+	public static Operation eq(ReadOnlyMonkey other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(animalId());
+	}
+
+	public static ReadOnlyMonkeySingleFinder<ReadOnlyMonkey, Object, ReadOnlyMonkey> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			animalId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			animalId()
+			, animalId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), new RelatedFinder[] 
+			{
+				ReadOnlyAnimalFinder.getFinderInstance(),ReadOnlyMammalFinder.getFinderInstance() 
+			}
+
+			,
+				null, "c", 2,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), new RelatedFinder[] 
+			{
+				ReadOnlyAnimalFinder.getFinderInstance(),ReadOnlyMammalFinder.getFinderInstance() 
+			}
+
+			,
+				null, "c", 2,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ReadOnlyMammalFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				new RelatedFinder[] 
+			{
+				ReadOnlyAnimalFinder.getFinderInstance(),ReadOnlyMammalFinder.getFinderInstance() 
+			}
+
+			, null,
+				"c", 2,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				new RelatedFinder[] 
+			{
+				ReadOnlyAnimalFinder.getFinderInstance(),ReadOnlyMammalFinder.getFinderInstance() 
+			}
+
+			, null,
+				"c", 2,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ReadOnlyMammalFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = tailLength();
+		result[1] = bodyTemp();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMonkey");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
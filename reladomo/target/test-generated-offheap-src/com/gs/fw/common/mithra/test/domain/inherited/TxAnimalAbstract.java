@@ -0,0 +1,401 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.AnimalGroup;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupAbstract;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupData;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupFinder;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TxAnimalAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TxAnimal.class.getName());
+	private static final RelationshipHashStrategy forgroup = new GroupRhs();
+	private static final class GroupRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TxAnimalData _castedSrcData = (TxAnimalData) _srcData;
+			AnimalGroup _castedTargetData = (AnimalGroup) _targetData;
+			if (!_castedSrcData.isAnimalGroupIdNull() && _castedSrcData.getAnimalGroupId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TxAnimalData _castedSrcData = (TxAnimalData) _srcData;
+			return HashUtil.hash(_castedSrcData.getAnimalGroupId(), _castedSrcData.isAnimalGroupIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public TxAnimalAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TxAnimal getDetachedCopy() throws MithraBusinessException
+	{
+		return (TxAnimal) super.getDetachedCopy();
+	}
+
+	public TxAnimal getNonPersistentCopy() throws MithraBusinessException
+	{
+		TxAnimal result = (TxAnimal) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TxAnimal copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TxAnimal) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TxAnimal zFindOriginal()
+	{
+		TxAnimalData data = (TxAnimalData) this.currentData;
+		Operation op;
+		op = TxAnimalFinder.animalId().eq(data.getAnimalId());
+		return TxAnimalFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TxAnimalData();
+	}
+
+	protected void zSetFromTxAnimalData( TxAnimalData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTxAnimalData( TxAnimalData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+		out.writeObject("com.gs.fw.common.mithra.test.domain.inherited.TxAnimalData");
+	}
+
+	public boolean isAnimalGroupIdNull()
+	{
+		return ((TxAnimalData) this.zSynchronizedGetData()).isAnimalGroupIdNull();
+	}
+
+	public int getAnimalGroupId()
+	{
+		TxAnimalData data = (TxAnimalData) this.zSynchronizedGetData();
+		if (data.isAnimalGroupIdNull()) MithraNullPrimitiveException.throwNew("animalGroupId", data);
+		return data.getAnimalGroupId();
+	}
+
+	public void setAnimalGroupId(int newValue)
+	{
+		zSetInteger(TxAnimalFinder.animalGroupId(), newValue, false, false ,true);
+	}
+
+	public boolean isAnimalIdNull()
+	{
+		return ((TxAnimalData) this.zSynchronizedGetData()).isAnimalIdNull();
+	}
+
+	public int getAnimalId()
+	{
+		TxAnimalData data = (TxAnimalData) this.zSynchronizedGetData();
+		return data.getAnimalId();
+	}
+
+	public void setAnimalId(int newValue)
+	{
+		zSetInteger(TxAnimalFinder.animalId(), newValue, true, false ,false);
+	}
+
+	public boolean isNameNull()
+	{
+		return ((TxAnimalData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		TxAnimalData data = (TxAnimalData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 20: " + newValue);
+		zSetString(TxAnimalFinder.name(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, TxAnimalFinder.animalGroupId(), false);
+	}
+
+	public void setAnimalGroupIdNull()
+	{
+		zNullify(TxAnimalFinder.animalGroupId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TxAnimalData _newData = (TxAnimalData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TxAnimalData _newData = (TxAnimalData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TxAnimalData _newData = (TxAnimalData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.animalGroupId = AnimalGroup.id</pre>
+	* @see AnimalGroup#getAnimal() reverse relationship AnimalGroup.getAnimal()
+	* @return The group
+	*/
+	public AnimalGroup getGroup()
+	{
+		AnimalGroup _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TxAnimalData _data = (TxAnimalData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isAnimalGroupIdNull())
+			{
+				_portal = AnimalGroupFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forgroup, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (AnimalGroup) _related;
+				if (_related == null)
+				{
+					_op = AnimalGroupFinder.id().eq(_data.getAnimalGroupId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isAnimalGroupIdNull())
+				{
+					Operation detachedOp = AnimalGroupFinder.id().eq(_data.getAnimalGroupId());
+					_result = AnimalGroupFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AnimalGroup) _data.getGroup();
+			if (_result == null)
+			{
+				if (!_data.isAnimalGroupIdNull())
+				{
+					_op = AnimalGroupFinder.id().eq(_data.getAnimalGroupId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = AnimalGroupFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setGroup(AnimalGroup group)
+	{
+		AnimalGroup _group = (AnimalGroup) group;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TxAnimalData _data = (TxAnimalData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setGroup(_group);
+			if (_group == null)
+			{
+				this.setAnimalGroupIdNull();
+			}
+			else
+			{
+				this.setAnimalGroupId(_group.getId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_group == null)
+			{
+				this.setAnimalGroupIdNull();
+			}
+			else
+			{
+				this.setAnimalGroupId(
+					_group.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TxAnimal zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TxAnimal original = (TxAnimal) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TxAnimalFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TxAnimalFinder.getMithraObjectPortal();
+	}
+
+	public TxAnimal getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TxAnimalFinder.animalGroupId(), false);
+		changed |= zUpdateString(behavior, data, newData, TxAnimalFinder.name(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TxAnimalFinder.animalId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TxAnimalAbstract result = (TxAnimalAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
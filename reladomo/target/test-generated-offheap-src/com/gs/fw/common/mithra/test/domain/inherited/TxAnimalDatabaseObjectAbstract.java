@@ -0,0 +1,539 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.AnimalGroup;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupAbstract;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupData;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupFinder;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TxAnimalDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "\"NAME\",GROUP_ID";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.\"NAME\",t0.GROUP_ID";
+	private static final String PK_WITH_ALIAS = "t0.ANIMAL_ID = ?";
+	private static final String PK_INDEX_COLS = "ANIMAL_ID";
+	protected TxAnimalDatabaseObjectAbstract()
+	{
+		super("TxAnimal", "com.gs.fw.common.mithra.test.domain.inherited.TxAnimalFinder",
+			10, 3,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TxAnimalFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TxAnimalFinder.getFinderInstance();
+	}
+
+	public static TxAnimalData allocateOnHeapData()
+	{
+		return new TxAnimalData();
+	}
+
+	public static TxAnimalData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		java.lang.Class dataClass = com.gs.fw.common.mithra.remote.MithraSerialUtil.getDataClassToInstantiate((String) in.readObject());
+		MithraDataObject data = com.gs.fw.common.mithra.remote.MithraSerialUtil.instantiateData(dataClass);
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TxAnimalData data = new TxAnimalData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(TxAnimalFinder.getPrimaryKeyAttributes(), this, TxAnimalFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(TxAnimalFinder.getPrimaryKeyAttributes(), this, TxAnimalFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(TxAnimalFinder.getPrimaryKeyAttributes(), this, TxAnimalFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(TxAnimalFinder.getPrimaryKeyAttributes(), this, TxAnimalFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TxAnimalFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TxAnimalFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TxAnimal.zConfigFullTx();
+		}
+		else
+		{
+			TxAnimal.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTxAnimalData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTxAnimalData(1, (TxAnimalData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTxAnimalPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTxAnimalTableName();
+	}
+
+	public String getTxAnimalTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TxAnimalData data = (TxAnimalData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAnimalId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ANIMAL_ID = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0c.ANIMAL_ID,t0b.ANIMAL_ID,t0a.ANIMAL_ID,t0.ANIMAL_ID,t0.\"NAME\",t0.GROUP_ID,t0a.BODY_TEMPERATURE,t0b.FARM,t0c.TAIL_LENGTH,t0c.ALPHA_MALE_DATE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias).append(".").append("ANIMAL_ID");
+		result.append(",").append(databaseAlias).append(".").append("\"NAME\"");
+		result.append(",").append(databaseAlias).append(".").append("GROUP_ID");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TxAnimalData inflateTxAnimalData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TxAnimalData data = inflateTxAnimalPkData(rs, dt);
+		inflateNonPkTxAnimalData(5, data, rs, dt);
+		return data;
+	}
+
+	public TxAnimalData inflateTxAnimalPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		int _spos = 1;
+		TxAnimalData _data = null;
+		if (_data == null)
+		{
+			_rs.getInt(_spos);
+			if (!_rs.wasNull())
+			{
+				_data = new TxMonkeyData();
+			}
+
+			_spos++;
+		}
+
+		if (_data == null)
+		{
+			_rs.getInt(_spos);
+			if (!_rs.wasNull())
+			{
+				_data = new TxCowData();
+			}
+
+			_spos++;
+		}
+
+		if (_data == null)
+		{
+			_rs.getInt(_spos);
+			if (!_rs.wasNull())
+			{
+				_data = new TxMammalData();
+			}
+
+			_spos++;
+		}
+
+		if (_data == null)
+		{
+			_data = new TxAnimalData();
+		}
+
+		int _pos = 4;
+		_data.setAnimalId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "animalId");
+		return _data;
+	}
+
+	public void inflateNonPkTxAnimalData(int _pos, TxAnimalData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TxAnimalData _data = _datax;
+			_data.setName(trimString(_rs.getString(_pos++)));
+			_data.setAnimalGroupId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAnimalGroupIdNull();
+			}
+		}
+
+		if (_datax instanceof TxMammalData)
+		{
+			TxMammalData _data = (TxMammalData) _datax;
+			_data.setBodyTemp(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBodyTempNull();
+			}
+		}
+		else
+		{
+			_pos += 1;
+		}
+
+		if (_datax instanceof TxCowData)
+		{
+			TxCowData _data = (TxCowData) _datax;
+			_data.setFarm(trimString(_rs.getString(_pos++)));
+		}
+		else
+		{
+			_pos += 1;
+		}
+
+		if (_datax instanceof TxMonkeyData)
+		{
+			TxMonkeyData _data = (TxMonkeyData) _datax;
+			_data.setTailLength(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTailLengthNull();
+			}
+
+			Timestamp alphaMaleDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setAlphaMaleDate(alphaMaleDatetimestampValue);
+		}
+		else
+		{
+			_pos += 2;
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TX_ANIMAL";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TxAnimalData data = (TxAnimalData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getAnimalId());
+		if (data.isNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getName());
+		}
+
+		if (data.isAnimalGroupIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getAnimalGroupId());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "ANIMAL_ID,\"NAME\",GROUP_ID";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		TxAnimal newObject = constructTxAnimal(newData);
+		if (newData instanceof TxMonkeyData)
+		{
+			((TxMonkey)newObject).zSetFromTxMonkeyData((TxMonkeyData) newData);
+		}
+		else
+		if (newData instanceof TxCowData)
+		{
+			((TxCow)newObject).zSetFromTxCowData((TxCowData) newData);
+		}
+		else
+		if (newData instanceof TxMammalData)
+		{
+			((TxMammal)newObject).zSetFromTxMammalData((TxMammalData) newData);
+		}
+		else
+		newObject.zSetFromTxAnimalData((TxAnimalData) newData);
+		return newObject;
+	}
+
+	protected TxAnimal constructTxAnimal(MithraDataObject data)
+	{
+		if (data instanceof TxMonkeyData) return new TxMonkey();
+		if (data instanceof TxCowData) return new TxCow();
+		if (data instanceof TxMammalData) return new TxMammal();
+		return new TxAnimal();
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ANIMAL_ID";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*3);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ANIMAL_ID");
+		return result.toString();
+	}
+}
@@ -0,0 +1,162 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.AnimalGroup;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupAbstract;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupData;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupFinder;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TxAnimalListAbstract extends DelegatingList<TxAnimal> implements MithraTransactionalList<TxAnimal>
+{
+	public TxAnimalListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TxAnimalListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TxAnimalListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TxAnimalListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TxAnimal[] elements()
+	{
+		TxAnimal[] result = new TxAnimal[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TxAnimalList intersection(TxAnimalList another)
+	{
+		return (TxAnimalList)super.intersection(another);
+	}
+
+	public TxAnimal getTxAnimalAt(int index)
+	{
+		return (TxAnimal)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.animalGroupId = AnimalGroup.id</pre>
+	* @see AnimalGroup#getAnimal() reverse relationship AnimalGroup.getAnimal()
+	* @return The group
+	*/
+	public AnimalGroupList getGroups()
+	{
+		return (AnimalGroupList) this.zGetDelegated().resolveRelationship(this, TxAnimalFinder.group());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TxAnimalFinder.getMithraObjectPortal();
+	}
+
+	public TxAnimalList getNonPersistentCopy()
+	{
+		TxAnimalList result = new TxAnimalList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TxAnimalList asAdhoc()
+	{
+		return (TxAnimalList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TxAnimal> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TxAnimalList merge(MithraTransactionalList<TxAnimal> incoming, TopLevelMergeOptions<TxAnimal> mergeOptions)
+	{
+		return (TxAnimalList) super.merge(incoming, mergeOptions);
+	}
+
+	public TxAnimalList getDetachedCopy()
+	{
+		TxAnimalList result = new TxAnimalList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAnimalId(int newValue)
+	{
+		zSetInteger(TxAnimalFinder.animalId(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(TxAnimalFinder.name(), newValue);
+	}
+
+	public void setAnimalGroupId(int newValue)
+	{
+		zSetInteger(TxAnimalFinder.animalGroupId(), newValue);
+	}
+
+	public void setAnimalGroupIdNull()
+	{
+		zSetAttributeNull(TxAnimalFinder.animalGroupId());
+	}
+}
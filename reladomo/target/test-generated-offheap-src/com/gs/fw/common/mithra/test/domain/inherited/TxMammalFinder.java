@@ -0,0 +1,834 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.AnimalGroup;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupAbstract;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupData;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupFinder;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TxMammalFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/inherited/TxMammal";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.inherited.TxMammal";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.inherited.TxMammal");
+	private static final TxMammalSingleFinder<TxMammal, Object, TxMammal> finder = new TxMammalSingleFinder<TxMammal, Object, TxMammal>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TxMammalFinder.TxMammalRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("bodyTemp");
+		finderMethodMap.addNormalAttributeName("animalId");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("animalGroupId");
+		finderMethodMap.addRelationshipName("group");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = TxMammalFinder.animalGroupId().constructEqualityMapper(AnimalGroupFinder.id());
+			result[1] = AnimalGroupFinder.id().constructEqualityMapper(TxMammalFinder.animalGroupId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TxMammal findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TxMammal findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TxMammalList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TxMammalList) finder.findMany(operation);
+	}
+
+	public static TxMammalList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TxMammalList) finder.findManyBypassCache(operation);
+	}
+
+	private static TxMammal findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TxMammal) FinderUtils.findOne(found);
+	}
+
+	public static TxMammal findByPrimaryKey(int animalId)
+	{
+		return finder.findByPrimaryKey(animalId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TxMammalData _castedTargetData = (TxMammalData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getAnimalId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TxMammal zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TxMammal) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TxMammalRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends TxAnimalFinder.TxAnimalRelatedFinder<ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements TxMammalInterfaceFinder<TxAnimal>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private DoubleAttribute<ParentOwnerType> bodyTemp;
+		private IntegerAttribute<ParentOwnerType> animalId;
+		private StringAttribute<ParentOwnerType> name;
+		private IntegerAttribute<ParentOwnerType> animalGroupId;
+		private TxMammalGroupFinderSubclass<ParentOwnerType> group;
+		public TxMammalRelatedFinder()
+		{
+			super();
+		}
+
+		public TxMammalRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.inherited.TxMammalFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TxMammalFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TxMammalFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TxMammalFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.animalId();
+			attributes[1] = this.bodyTemp();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.group());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TxMammal findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TxMammalFinder.findOne(operation, false);
+		}
+
+		public TxMammal findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TxMammalFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TxMammal> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TxMammalList((Operation) operation);
+		}
+
+		public MithraList<? extends TxMammal> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TxMammalList result = (TxMammalList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TxMammal> constructEmptyList()
+		{
+			return new TxMammalList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -546758234;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 1;
+		}
+
+		public DoubleAttribute<ParentOwnerType> bodyTemp()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.bodyTemp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("BODY_TEMPERATURE","a","bodyTemp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(TxMammalFinder.bodyTemp(), this.mapper, this.zGetValueSelector());
+				this.bodyTemp = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> animalId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.animalId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ANIMAL_ID","","animalId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TxMammalFinder.animalId(), this.mapper, this.zGetValueSelector());
+				this.animalId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("\"NAME\"","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(TxMammalFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> animalGroupId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.animalGroupId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("GROUP_ID","","animalGroupId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TxMammalFinder.animalGroupId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("group");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "AnimalGroup", "animal");
+				this.animalGroupId = result;
+			}
+
+			return result;
+		}
+
+		public AnimalGroupFinder.AnimalGroupSingleFinderForRelatedClasses<ParentOwnerType, AnimalGroup, ? extends TxMammal> group()
+		{
+			TxMammalGroupFinderSubclass<ParentOwnerType> result = this.group;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TxMammalFinder.zGetTxMammalGroupReverseMapper());
+				newMapper.setToMany(false);
+				result = new TxMammalGroupFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.group = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TxMammalFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TxMammalFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TxMammalCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TxMammalRelatedFinder<ParentOwnerType, ReturnType, TxMammalList, OwnerType>
+	{
+		public TxMammalCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TxMammalCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TxMammalCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TxMammalCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TxMammalSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TxMammalRelatedFinder<ParentOwnerType, ReturnType, TxMammalList, OwnerType>
+	implements ToOneFinder
+	{
+		public TxMammalSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TxMammalSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TxMammal other)
+		{
+			return this.animalId().eq(other.getAnimalId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TxMammal findByPrimaryKey(int animalId)
+		{
+			TxMammal _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(animalId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TxMammal) _related;
+			if (_related == null)
+			{
+				_op = this.animalId().eq(animalId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TxMammalSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TxMammalSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TxMammalSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper groupReverseMapper = null;
+	public static Mapper zGetTxMammalGroupReverseMapper()
+	{
+		if (groupReverseMapper == null)
+		{
+			groupReverseMapper = zConstructTxMammalGroupReverseMapper();
+		}
+
+		return groupReverseMapper;
+	}
+
+	private static Mapper groupMapper = null;
+	public static Mapper zGetTxMammalGroupMapper()
+	{
+		if (groupMapper == null)
+		{
+			groupMapper = zConstructTxMammalGroupMapper();
+		}
+
+		return groupMapper;
+	}
+
+	private static Mapper groupPureReverseMapper = null;
+	public static Mapper zGetTxMammalGroupPureReverseMapper()
+	{
+		if (groupPureReverseMapper == null)
+		{
+			groupPureReverseMapper = zConstructTxMammalGroupPureReverseMapper();
+		}
+
+		return groupPureReverseMapper;
+	}
+
+	private static Mapper zConstructTxMammalGroupPureReverseMapper()
+	{
+		Mapper groupMapper = TxMammalFinder.zGetConstantJoin(0);
+		groupMapper.setName("group");
+		return groupMapper;
+	}
+
+	private static Mapper zConstructTxMammalGroupReverseMapper()
+	{
+		Mapper groupMapper = TxMammalFinder.zGetConstantJoin(0);
+		groupMapper.setName("group");
+		return groupMapper;
+	}
+
+	private static Mapper zConstructTxMammalGroupMapper()
+	{
+		Mapper groupMapper = TxMammalFinder.zGetConstantJoin(1);
+		groupMapper.setName("animal");
+		return groupMapper;
+	}
+
+	/** maps to TX_MAMMAL.BODY_TEMPERATURE **/
+	public static DoubleAttribute<TxMammal> bodyTemp()
+	{
+		return finder.bodyTemp();
+	}
+
+	/** maps to TX_MAMMAL.ANIMAL_ID **/
+	public static IntegerAttribute<TxMammal> animalId()
+	{
+		return finder.animalId();
+	}
+
+	/** maps to TX_MAMMAL."NAME" **/
+	public static StringAttribute<TxMammal> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to TX_MAMMAL.GROUP_ID **/
+	public static IntegerAttribute<TxMammal> animalGroupId()
+	{
+		return finder.animalGroupId();
+	}
+
+	public static AnimalGroupFinder.AnimalGroupSingleFinderForRelatedClasses<TxMammal, AnimalGroup, ? extends TxMammal> group()
+	{
+		return finder.group();
+	}
+
+	public static class TxMammalGroupFinderSubclass<ParentOwnerType> extends AnimalGroupFinder.AnimalGroupSingleFinderForRelatedClasses<ParentOwnerType, AnimalGroup, TxMammal>
+	{
+		public TxMammalGroupFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "group";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TxMammalGroupFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AnimalGroup plainValueOf(TxMammal _obj)
+		{
+			return _obj.getGroup();
+		}
+
+		protected AnimalGroupList plainListValueOf(Object _obj)
+		{
+			return ((TxMammalList)_obj).getGroups();
+		}
+	}
+
+	public static Operation eq(TxMammal other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(animalId());
+	}
+
+	public static TxMammalSingleFinder<TxMammal, Object, TxMammal> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			animalId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			animalId()
+			, animalId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addTypedIndex(new Attribute[] 
+		{
+			animalGroupId()
+		}
+
+		, TxMammal.class, TxMammalData.class);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), new RelatedFinder[] 
+			{
+				TxAnimalFinder.getFinderInstance() 
+			}
+
+			,
+				new RelatedFinder[] 
+			{
+				TxCowFinder.getFinderInstance(),TxMonkeyFinder.getFinderInstance() 
+			}
+
+			, "a", 1,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), new RelatedFinder[] 
+			{
+				TxAnimalFinder.getFinderInstance() 
+			}
+
+			,
+				new RelatedFinder[] 
+			{
+				TxCowFinder.getFinderInstance(),TxMonkeyFinder.getFinderInstance() 
+			}
+
+			, "a", 1,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			AnimalGroupFinder.getFinderInstance(),TxAnimalFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				new RelatedFinder[] 
+			{
+				TxAnimalFinder.getFinderInstance() 
+			}
+
+			, new RelatedFinder[] 
+			{
+				TxCowFinder.getFinderInstance(),TxMonkeyFinder.getFinderInstance() 
+			}
+
+			,
+				"a", 1,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				new RelatedFinder[] 
+			{
+				TxAnimalFinder.getFinderInstance() 
+			}
+
+			, new RelatedFinder[] 
+			{
+				TxCowFinder.getFinderInstance(),TxMonkeyFinder.getFinderInstance() 
+			}
+
+			,
+				"a", 1,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			AnimalGroupFinder.getFinderInstance(),TxAnimalFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = bodyTemp();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.inherited.TxMammal");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,291 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.AnimalGroup;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupAbstract;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupData;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupFinder;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TxMonkeyData
+extends TxMammalData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private static final RelatedFinder[] _allFinders = new RelatedFinder[] 
+	{
+		TxAnimalFinder.getFinderInstance(),
+			TxMammalFinder.getFinderInstance(),
+			TxMonkeyFinder.getFinderInstance()
+	}
+
+	;
+	private byte isNullBits0c = 0;
+	private Timestamp alphaMaleDate;
+	private double tailLength;
+	public boolean isAlphaMaleDateNull()
+	{
+		return this.getAlphaMaleDate() == null;
+	}
+
+	public boolean isTailLengthNull()
+	{
+		return (isNullBits0c & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		super.zSerializeFullData(out);
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.alphaMaleDate);
+		out.writeDouble(this.tailLength);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0c);
+	}
+
+	public Timestamp getAlphaMaleDate()
+	{
+		return this.alphaMaleDate;
+	}
+
+	public long zGetAlphaMaleDateAsLong()
+	{
+		if (alphaMaleDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return alphaMaleDate.getTime();
+	}
+
+	public void setAlphaMaleDate(Timestamp value)
+	{
+		this.alphaMaleDate = TimestampPool.getInstance().getOrAddToCache(value, TxMonkeyFinder.isFullCache(), TxMonkeyFinder.isOffHeap());
+	}
+
+	public void setAlphaMaleDateNull()
+	{
+		this.setAlphaMaleDate(null);
+	}
+
+	public double getTailLength()
+	{
+		return this.tailLength;
+	}
+
+	public void setTailLength(double value)
+	{
+		this.tailLength = value;
+		isNullBits0c = (byte)((int)isNullBits0c & ~( 1));
+	}
+
+	public void setTailLengthNull()
+	{
+		isNullBits0c = (byte)((int)isNullBits0c | 1);
+	}
+
+	public byte zGetIsNullBits0c()
+	{
+		return this.isNullBits0c;
+	}
+
+	public void zSetIsNullBits0c(byte newValue)
+	{
+		this.isNullBits0c = newValue;
+	}
+
+	protected void copyInto(TxMonkeyData copy, boolean withRelationships)
+	{
+		super.copyInto(copy, withRelationships);
+		copy.isNullBits0c = this.isNullBits0c;
+		copy.alphaMaleDate = this.alphaMaleDate;
+		copy.tailLength = this.tailLength;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		super.zDeserializeFullData(in);
+		this.isNullBits0c = in.readByte();
+		this.alphaMaleDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TxMonkeyFinder.isFullCache(), TxMonkeyFinder.isOffHeap());
+		this.tailLength = in.readDouble();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getGroup()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setGroup(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		super.copyNonPkAttributes(newData);
+		final TxMonkeyData txMonkeyData = (TxMonkeyData) newData;
+		this.setAlphaMaleDate(txMonkeyData.getAlphaMaleDate());
+		this.setTailLength(txMonkeyData.getTailLength());
+		if (txMonkeyData.isTailLengthNull()) this.setTailLengthNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		if (super.zNonPrimaryKeyAttributesChanged(newData, toleranceForFloatingPointFields)) return true;
+		final TxMonkeyData other = (TxMonkeyData) newData;
+		if (!isAlphaMaleDateNull() ? !getAlphaMaleDate().equals(other.getAlphaMaleDate()) : !other.isAlphaMaleDateNull())
+		{
+			return true;
+		}
+
+		if ( isTailLengthNull() != other.isTailLengthNull() || Math.abs(getTailLength() - other.getTailLength()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TxMonkeyData copy = new TxMonkeyData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TxMonkeyData copy = new TxMonkeyData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return _allFinders[hierarchyDepth].getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TxMonkeyFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.inherited.TxMonkeyData";
+	}
+}
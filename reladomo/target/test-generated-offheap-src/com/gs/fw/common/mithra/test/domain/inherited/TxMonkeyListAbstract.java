@@ -0,0 +1,177 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.AnimalGroup;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupAbstract;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupData;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupFinder;
+import com.gs.fw.common.mithra.test.domain.AnimalGroupList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TxMonkeyListAbstract extends DelegatingList<TxMonkey> implements MithraTransactionalList<TxMonkey>
+{
+	public TxMonkeyListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TxMonkeyListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TxMonkeyListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TxMonkeyListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TxMonkey[] elements()
+	{
+		TxMonkey[] result = new TxMonkey[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TxMonkeyList intersection(TxMonkeyList another)
+	{
+		return (TxMonkeyList)super.intersection(another);
+	}
+
+	public TxMonkey getTxMonkeyAt(int index)
+	{
+		return (TxMonkey)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.animalGroupId = AnimalGroup.id</pre>
+	* @see AnimalGroup#getAnimal() reverse relationship AnimalGroup.getAnimal()
+	* @return The group
+	*/
+	public AnimalGroupList getGroups()
+	{
+		return (AnimalGroupList) this.zGetDelegated().resolveRelationship(this, TxMonkeyFinder.group());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TxMonkeyFinder.getMithraObjectPortal();
+	}
+
+	public TxMonkeyList getNonPersistentCopy()
+	{
+		TxMonkeyList result = new TxMonkeyList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TxMonkeyList asAdhoc()
+	{
+		return (TxMonkeyList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<TxMonkey> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public TxMonkeyList merge(MithraTransactionalList<TxMonkey> incoming, TopLevelMergeOptions<TxMonkey> mergeOptions)
+	{
+		return (TxMonkeyList) super.merge(incoming, mergeOptions);
+	}
+
+	public TxMonkeyList getDetachedCopy()
+	{
+		TxMonkeyList result = new TxMonkeyList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setTailLength(double newValue)
+	{
+		zSetDouble(TxMonkeyFinder.tailLength(), newValue);
+	}
+
+	public void setAlphaMaleDate(Timestamp newValue)
+	{
+		zSetTimestamp(TxMonkeyFinder.alphaMaleDate(), newValue);
+	}
+
+	public void setBodyTemp(double newValue)
+	{
+		zSetDouble(TxMonkeyFinder.bodyTemp(), newValue);
+	}
+
+	public void setAnimalId(int newValue)
+	{
+		zSetInteger(TxMonkeyFinder.animalId(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(TxMonkeyFinder.name(), newValue);
+	}
+
+	public void setAnimalGroupId(int newValue)
+	{
+		zSetInteger(TxMonkeyFinder.animalGroupId(), newValue);
+	}
+
+	public void setTailLengthNull()
+	{
+		zSetAttributeNull(TxMonkeyFinder.tailLength());
+	}
+}
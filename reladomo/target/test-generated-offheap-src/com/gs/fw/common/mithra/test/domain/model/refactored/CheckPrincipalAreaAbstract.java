@@ -0,0 +1,268 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored;
+import com.gs.fw.common.mithra.test.domain.model.refactored.conflict.*;
+import com.gs.fw.common.mithra.test.domain.model.refactored.conflict.BankingDealDetailImplFinder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class CheckPrincipalAreaAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(CheckPrincipalArea.class.getName());
+	public CheckPrincipalAreaAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public CheckPrincipalArea getDetachedCopy() throws MithraBusinessException
+	{
+		return (CheckPrincipalArea) super.getDetachedCopy();
+	}
+
+	public CheckPrincipalArea getNonPersistentCopy() throws MithraBusinessException
+	{
+		CheckPrincipalArea result = (CheckPrincipalArea) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public CheckPrincipalArea copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (CheckPrincipalArea) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public CheckPrincipalArea zFindOriginal()
+	{
+		CheckPrincipalAreaData data = (CheckPrincipalAreaData) this.currentData;
+		Operation op;
+		op = CheckPrincipalAreaFinder.checkId().eq(data.getCheckId());
+		op = op.and(CheckPrincipalAreaFinder.principalAreaId().eq(data.getPrincipalAreaId()));
+		op = op.and(CheckPrincipalAreaFinder.roleId().eq(data.getRoleId()));
+		return CheckPrincipalAreaFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new CheckPrincipalAreaData();
+	}
+
+	protected void zSetFromCheckPrincipalAreaData( CheckPrincipalAreaData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromCheckPrincipalAreaData( CheckPrincipalAreaData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCheckIdNull()
+	{
+		return ((CheckPrincipalAreaData) this.zSynchronizedGetData()).isCheckIdNull();
+	}
+
+	public int getCheckId()
+	{
+		CheckPrincipalAreaData data = (CheckPrincipalAreaData) this.zSynchronizedGetData();
+		return data.getCheckId();
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(CheckPrincipalAreaFinder.checkId(), newValue, true, false ,false);
+	}
+
+	public boolean isPrincipalAreaIdNull()
+	{
+		return ((CheckPrincipalAreaData) this.zSynchronizedGetData()).isPrincipalAreaIdNull();
+	}
+
+	public int getPrincipalAreaId()
+	{
+		CheckPrincipalAreaData data = (CheckPrincipalAreaData) this.zSynchronizedGetData();
+		return data.getPrincipalAreaId();
+	}
+
+	public void setPrincipalAreaId(int newValue)
+	{
+		zSetInteger(CheckPrincipalAreaFinder.principalAreaId(), newValue, true, false ,false);
+	}
+
+	public boolean isRoleIdNull()
+	{
+		return ((CheckPrincipalAreaData) this.zSynchronizedGetData()).isRoleIdNull();
+	}
+
+	public int getRoleId()
+	{
+		CheckPrincipalAreaData data = (CheckPrincipalAreaData) this.zSynchronizedGetData();
+		return data.getRoleId();
+	}
+
+	public void setRoleId(int newValue)
+	{
+		zSetInteger(CheckPrincipalAreaFinder.roleId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		CheckPrincipalAreaData _newData = (CheckPrincipalAreaData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		CheckPrincipalAreaData _newData = (CheckPrincipalAreaData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		CheckPrincipalAreaData _newData = (CheckPrincipalAreaData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public CheckPrincipalArea zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		CheckPrincipalArea original = (CheckPrincipalArea) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return CheckPrincipalAreaFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return CheckPrincipalAreaFinder.getMithraObjectPortal();
+	}
+
+	public CheckPrincipalArea getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, CheckPrincipalAreaFinder.checkId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, CheckPrincipalAreaFinder.principalAreaId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, CheckPrincipalAreaFinder.roleId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		CheckPrincipalAreaAbstract result = (CheckPrincipalAreaAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,297 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.model.refactored.conflict.*;
+import com.gs.fw.common.mithra.test.domain.model.refactored.conflict.BankingDealDetailImplFinder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class CheckPrincipalAreaData
+implements MithraDataObject
+{
+	private int checkId;
+	private int principalAreaId;
+	private int roleId;
+	public boolean isCheckIdNull()
+	{
+		return false;
+	}
+
+	public boolean isPrincipalAreaIdNull()
+	{
+		return false;
+	}
+
+	public boolean isRoleIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.checkId);
+		out.writeInt(this.principalAreaId);
+		out.writeInt(this.roleId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public int getCheckId()
+	{
+		return this.checkId;
+	}
+
+	public void setCheckId(int value)
+	{
+		this.checkId = value;
+	}
+
+	public void setCheckIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getPrincipalAreaId()
+	{
+		return this.principalAreaId;
+	}
+
+	public void setPrincipalAreaId(int value)
+	{
+		this.principalAreaId = value;
+	}
+
+	public void setPrincipalAreaIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getRoleId()
+	{
+		return this.roleId;
+	}
+
+	public void setRoleId(int value)
+	{
+		this.roleId = value;
+	}
+
+	public void setRoleIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(CheckPrincipalAreaData copy, boolean withRelationships)
+	{
+		copy.checkId = this.checkId;
+		copy.principalAreaId = this.principalAreaId;
+		copy.roleId = this.roleId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.checkId = in.readInt();
+		this.principalAreaId = in.readInt();
+		this.roleId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final CheckPrincipalAreaData otherData = (CheckPrincipalAreaData) other;
+		if (getCheckId() != otherData.getCheckId())
+		{
+			return false;
+		}
+
+		if (getPrincipalAreaId() != otherData.getPrincipalAreaId())
+		{
+			return false;
+		}
+
+		if (getRoleId() != otherData.getRoleId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.checkId);
+		out.writeInt(this.principalAreaId);
+		out.writeInt(this.roleId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.checkId = in.readInt();
+		this.principalAreaId = in.readInt();
+		this.roleId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final CheckPrincipalAreaData checkPrincipalAreaData = (CheckPrincipalAreaData) newData;
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final CheckPrincipalAreaData other = (CheckPrincipalAreaData) newData;
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		CheckPrincipalAreaData copy = new CheckPrincipalAreaData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		CheckPrincipalAreaData copy = new CheckPrincipalAreaData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "checkId: "+(""+getCheckId())+ " / ";
+		result += "principalAreaId: "+(""+getPrincipalAreaId())+ " / ";
+		result += "roleId: "+(""+getRoleId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return CheckPrincipalAreaFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return CheckPrincipalAreaFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaData";
+	}
+}
@@ -0,0 +1,142 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.model.refactored.conflict.*;
+import com.gs.fw.common.mithra.test.domain.model.refactored.conflict.BankingDealDetailImplFinder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class CheckPrincipalAreaListAbstract extends DelegatingList<CheckPrincipalArea> implements MithraTransactionalList<CheckPrincipalArea>
+{
+	public CheckPrincipalAreaListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public CheckPrincipalAreaListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public CheckPrincipalAreaListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public CheckPrincipalAreaListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public CheckPrincipalArea[] elements()
+	{
+		CheckPrincipalArea[] result = new CheckPrincipalArea[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public CheckPrincipalAreaList intersection(CheckPrincipalAreaList another)
+	{
+		return (CheckPrincipalAreaList)super.intersection(another);
+	}
+
+	public CheckPrincipalArea getCheckPrincipalAreaAt(int index)
+	{
+		return (CheckPrincipalArea)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return CheckPrincipalAreaFinder.getMithraObjectPortal();
+	}
+
+	public CheckPrincipalAreaList getNonPersistentCopy()
+	{
+		CheckPrincipalAreaList result = new CheckPrincipalAreaList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public CheckPrincipalAreaList asAdhoc()
+	{
+		return (CheckPrincipalAreaList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<CheckPrincipalArea> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public CheckPrincipalAreaList merge(MithraTransactionalList<CheckPrincipalArea> incoming, TopLevelMergeOptions<CheckPrincipalArea> mergeOptions)
+	{
+		return (CheckPrincipalAreaList) super.merge(incoming, mergeOptions);
+	}
+
+	public CheckPrincipalAreaList getDetachedCopy()
+	{
+		CheckPrincipalAreaList result = new CheckPrincipalAreaList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(CheckPrincipalAreaFinder.checkId(), newValue);
+	}
+
+	public void setPrincipalAreaId(int newValue)
+	{
+		zSetInteger(CheckPrincipalAreaFinder.principalAreaId(), newValue);
+	}
+
+	public void setRoleId(int newValue)
+	{
+		zSetInteger(CheckPrincipalAreaFinder.roleId(), newValue);
+	}
+}
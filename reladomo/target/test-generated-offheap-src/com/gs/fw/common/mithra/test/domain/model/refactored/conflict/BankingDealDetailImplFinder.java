@@ -0,0 +1,713 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.conflict;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalArea;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaAbstract;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaData;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaFinder;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BankingDealDetailImplFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/model/refactored/conflict/BankingDealDetailImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.model.refactored.conflict.BankingDealDetailImpl";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.model.refactored.conflict.BankingDealDetailImpl");
+	private static final BankingDealDetailImplSingleFinder<BankingDealDetailImpl, Object, BankingDealDetailImpl> finder = new BankingDealDetailImplSingleFinder<BankingDealDetailImpl, Object, BankingDealDetailImpl>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BankingDealDetailImplFinder.BankingDealDetailImplRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("checkId");
+		finderMethodMap.addRelationshipName("checkPrincipalAreas");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = BankingDealDetailImplFinder.checkId().constructEqualityMapper(CheckPrincipalAreaFinder.checkId());
+			result[1] = CheckPrincipalAreaFinder.checkId().constructEqualityMapper(BankingDealDetailImplFinder.checkId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BankingDealDetailImpl findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BankingDealDetailImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BankingDealDetailImplList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BankingDealDetailImplList) finder.findMany(operation);
+	}
+
+	public static BankingDealDetailImplList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BankingDealDetailImplList) finder.findManyBypassCache(operation);
+	}
+
+	private static BankingDealDetailImpl findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BankingDealDetailImpl) FinderUtils.findOne(found);
+	}
+
+	public static BankingDealDetailImpl findByPrimaryKey(int checkId)
+	{
+		return finder.findByPrimaryKey(checkId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BankingDealDetailImplData _castedTargetData = (BankingDealDetailImplData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BankingDealDetailImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BankingDealDetailImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BankingDealDetailImplRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BankingDealDetailImpl, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> checkId;
+		private BankingDealDetailImplCheckPrincipalAreasFinderSubclass<ParentOwnerType> checkPrincipalAreas;
+		public BankingDealDetailImplRelatedFinder()
+		{
+			super();
+		}
+
+		public BankingDealDetailImplRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.model.refactored.conflict.BankingDealDetailImplFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BankingDealDetailImplFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BankingDealDetailImplFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BankingDealDetailImplFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[1];
+			attributes[0] = this.checkId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.checkPrincipalAreas());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.checkPrincipalAreas());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BankingDealDetailImpl findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BankingDealDetailImplFinder.findOne(operation, false);
+		}
+
+		public BankingDealDetailImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BankingDealDetailImplFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BankingDealDetailImpl> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BankingDealDetailImplList((Operation) operation);
+		}
+
+		public MithraList<? extends BankingDealDetailImpl> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BankingDealDetailImplList result = (BankingDealDetailImplList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BankingDealDetailImpl> constructEmptyList()
+		{
+			return new BankingDealDetailImplList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -154493556;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> checkId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.checkId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CHECK_ID","","checkId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BankingDealDetailImplFinder.checkId(), this.mapper, this.zGetValueSelector());
+				this.checkId = result;
+			}
+
+			return result;
+		}
+
+		public CheckPrincipalAreaFinder.CheckPrincipalAreaCollectionFinderForRelatedClasses<ParentOwnerType, CheckPrincipalAreaList, BankingDealDetailImpl> checkPrincipalAreas()
+		{
+			BankingDealDetailImplCheckPrincipalAreasFinderSubclass<ParentOwnerType> result = this.checkPrincipalAreas;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BankingDealDetailImplFinder.zGetBankingDealDetailImplCheckPrincipalAreasReverseMapper());
+				newMapper.setToMany(true);
+				result = new BankingDealDetailImplCheckPrincipalAreasFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.checkPrincipalAreas = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BankingDealDetailImplFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BankingDealDetailImplFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BankingDealDetailImplCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BankingDealDetailImplRelatedFinder<ParentOwnerType, ReturnType, BankingDealDetailImplList, OwnerType>
+	{
+		public BankingDealDetailImplCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BankingDealDetailImplCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BankingDealDetailImplCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BankingDealDetailImplCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BankingDealDetailImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BankingDealDetailImplRelatedFinder<ParentOwnerType, ReturnType, BankingDealDetailImplList, OwnerType>
+	implements ToOneFinder
+	{
+		public BankingDealDetailImplSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BankingDealDetailImplSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BankingDealDetailImpl other)
+		{
+			return this.checkId().eq(other.getCheckId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BankingDealDetailImpl findByPrimaryKey(int checkId)
+		{
+			BankingDealDetailImpl _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(checkId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BankingDealDetailImpl) _related;
+			if (_related == null)
+			{
+				_op = this.checkId().eq(checkId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BankingDealDetailImplSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BankingDealDetailImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BankingDealDetailImplSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper checkPrincipalAreasReverseMapper = null;
+	public static Mapper zGetBankingDealDetailImplCheckPrincipalAreasReverseMapper()
+	{
+		if (checkPrincipalAreasReverseMapper == null)
+		{
+			checkPrincipalAreasReverseMapper = zConstructBankingDealDetailImplCheckPrincipalAreasReverseMapper();
+		}
+
+		return checkPrincipalAreasReverseMapper;
+	}
+
+	private static Mapper checkPrincipalAreasMapper = null;
+	public static Mapper zGetBankingDealDetailImplCheckPrincipalAreasMapper()
+	{
+		if (checkPrincipalAreasMapper == null)
+		{
+			checkPrincipalAreasMapper = zConstructBankingDealDetailImplCheckPrincipalAreasMapper();
+		}
+
+		return checkPrincipalAreasMapper;
+	}
+
+	private static Mapper checkPrincipalAreasPureReverseMapper = null;
+	public static Mapper zGetBankingDealDetailImplCheckPrincipalAreasPureReverseMapper()
+	{
+		if (checkPrincipalAreasPureReverseMapper == null)
+		{
+			checkPrincipalAreasPureReverseMapper = zConstructBankingDealDetailImplCheckPrincipalAreasPureReverseMapper();
+		}
+
+		return checkPrincipalAreasPureReverseMapper;
+	}
+
+	private static Mapper zConstructBankingDealDetailImplCheckPrincipalAreasPureReverseMapper()
+	{
+		Mapper checkPrincipalAreasMapper = BankingDealDetailImplFinder.zGetConstantJoin(0);
+		checkPrincipalAreasMapper.setName("checkPrincipalAreas");
+		return checkPrincipalAreasMapper;
+	}
+
+	private static Mapper zConstructBankingDealDetailImplCheckPrincipalAreasReverseMapper()
+	{
+		Mapper checkPrincipalAreasMapper = BankingDealDetailImplFinder.zGetConstantJoin(0);
+		checkPrincipalAreasMapper.setName("checkPrincipalAreas");
+		return checkPrincipalAreasMapper;
+	}
+
+	private static Mapper zConstructBankingDealDetailImplCheckPrincipalAreasMapper()
+	{
+		Mapper checkPrincipalAreasMapper = BankingDealDetailImplFinder.zGetConstantJoin(1);
+		checkPrincipalAreasMapper.setName("checkPrincipalAreas_Reverse");
+		return checkPrincipalAreasMapper;
+	}
+
+	/** maps to IBD_CHECK.CHECK_ID **/
+	public static IntegerAttribute<BankingDealDetailImpl> checkId()
+	{
+		return finder.checkId();
+	}
+
+	public static CheckPrincipalAreaFinder.CheckPrincipalAreaCollectionFinderForRelatedClasses<BankingDealDetailImpl, CheckPrincipalAreaList, BankingDealDetailImpl> checkPrincipalAreas()
+	{
+		return finder.checkPrincipalAreas();
+	}
+
+	public static class BankingDealDetailImplCheckPrincipalAreasFinderSubclass<ParentOwnerType> extends CheckPrincipalAreaFinder.CheckPrincipalAreaCollectionFinderForRelatedClasses<ParentOwnerType, CheckPrincipalAreaList, BankingDealDetailImpl>
+	{
+		public BankingDealDetailImplCheckPrincipalAreasFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "checkPrincipalAreas";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BankingDealDetailImplCheckPrincipalAreasFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BankingDealDetailImpl) _obj).isCheckPrincipalAreasModifiedSinceDetachment();
+		}
+
+		protected CheckPrincipalAreaList plainValueOf(BankingDealDetailImpl _obj)
+		{
+			return _obj.getCheckPrincipalAreas();
+		}
+
+		protected CheckPrincipalAreaList plainListValueOf(Object _obj)
+		{
+			return ((BankingDealDetailImplList)_obj).getCheckPrincipalAreas();
+		}
+	}
+
+	public static Operation eq(BankingDealDetailImpl other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(checkId());
+	}
+
+	public static BankingDealDetailImplSingleFinder<BankingDealDetailImpl, Object, BankingDealDetailImpl> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+			, checkId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.model.refactored.conflict.BankingDealDetailImpl");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
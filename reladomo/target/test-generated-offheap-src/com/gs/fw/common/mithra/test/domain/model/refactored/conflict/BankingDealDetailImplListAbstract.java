@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.conflict;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalArea;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaAbstract;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaData;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaFinder;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BankingDealDetailImplListAbstract extends DelegatingList<BankingDealDetailImpl> implements MithraTransactionalList<BankingDealDetailImpl>
+{
+	public BankingDealDetailImplListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BankingDealDetailImplListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BankingDealDetailImplListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BankingDealDetailImplListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BankingDealDetailImpl[] elements()
+	{
+		BankingDealDetailImpl[] result = new BankingDealDetailImpl[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BankingDealDetailImplList intersection(BankingDealDetailImplList another)
+	{
+		return (BankingDealDetailImplList)super.intersection(another);
+	}
+
+	public BankingDealDetailImpl getBankingDealDetailImplAt(int index)
+	{
+		return (BankingDealDetailImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = CheckPrincipalArea.checkId</pre>
+	* @return check principal areas
+	*/
+	public CheckPrincipalAreaList getCheckPrincipalAreas()
+	{
+		return (CheckPrincipalAreaList) this.zGetDelegated().resolveRelationship(this, BankingDealDetailImplFinder.checkPrincipalAreas());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BankingDealDetailImplFinder.getMithraObjectPortal();
+	}
+
+	public BankingDealDetailImplList getNonPersistentCopy()
+	{
+		BankingDealDetailImplList result = new BankingDealDetailImplList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BankingDealDetailImplList asAdhoc()
+	{
+		return (BankingDealDetailImplList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<BankingDealDetailImpl> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+
+	public BankingDealDetailImplList merge(MithraTransactionalList<BankingDealDetailImpl> incoming, TopLevelMergeOptions<BankingDealDetailImpl> mergeOptions)
+	{
+		return (BankingDealDetailImplList) super.merge(incoming, mergeOptions);
+	}
+
+	public BankingDealDetailImplList getDetachedCopy()
+	{
+		BankingDealDetailImplList result = new BankingDealDetailImplList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(BankingDealDetailImplFinder.checkId(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getCheckPrincipalAreas()).cascadeDeleteAll();
+	}
+}
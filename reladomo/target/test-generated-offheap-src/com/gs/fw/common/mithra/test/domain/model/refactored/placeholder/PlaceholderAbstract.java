@@ -0,0 +1,22 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface PlaceholderAbstract
+{
+	String getDescription();
+	void setDescription(String newValue);
+	boolean isDescriptionNull();
+	int getId();
+	void setId(int newValue);
+	boolean isIdNull();
+	String getName();
+	void setName(String newValue);
+	boolean isNameNull();
+	public PlaceholderAssociatedCheckList getAssociatedChecks();
+	void setAssociatedChecks(PlaceholderAssociatedCheckList associatedChecks);
+}
@@ -0,0 +1,599 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class RestrictionAbstract extends com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.PlaceholderImpl implements MithraTransactionalObject, Serializable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Restriction.class.getName());
+	public RestrictionAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Restriction getDetachedCopy() throws MithraBusinessException
+	{
+		return (Restriction) super.getDetachedCopy();
+	}
+
+	public Restriction getNonPersistentCopy() throws MithraBusinessException
+	{
+		Restriction result = (Restriction) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public Restriction copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Restriction) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Restriction zFindOriginal()
+	{
+		RestrictionData data = (RestrictionData) this.currentData;
+		Operation op;
+		op = RestrictionFinder.id().eq(data.getId());
+		return RestrictionFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isAssociatedChecksModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new RestrictionData();
+	}
+
+	protected void zSetFromRestrictionData( RestrictionData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromRestrictionData( RestrictionData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((RestrictionData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		RestrictionData data = (RestrictionData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(RestrictionFinder.description(), newValue, false, false );
+	}
+
+	public boolean isEngagementAndTailDateNull()
+	{
+		return ((RestrictionData) this.zSynchronizedGetData()).isEngagementAndTailDateNull();
+	}
+
+	public String getEngagementAndTailDate()
+	{
+		RestrictionData data = (RestrictionData) this.zSynchronizedGetData();
+		return data.getEngagementAndTailDate();
+	}
+
+	public void setEngagementAndTailDate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'engagementAndTailDate' cannot exceed maximum length of 256: " + newValue);
+		zSetString(RestrictionFinder.engagementAndTailDate(), newValue, false, false );
+	}
+
+	public boolean isEngagementDateNull()
+	{
+		return ((RestrictionData) this.zSynchronizedGetData()).isEngagementDateNull();
+	}
+
+	public String getEngagementDate()
+	{
+		RestrictionData data = (RestrictionData) this.zSynchronizedGetData();
+		return data.getEngagementDate();
+	}
+
+	public void setEngagementDate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'engagementDate' cannot exceed maximum length of 256: " + newValue);
+		zSetString(RestrictionFinder.engagementDate(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((RestrictionData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		RestrictionData data = (RestrictionData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(RestrictionFinder.id(), newValue, true, false ,false);
+		if (d == null) return;
+		RestrictionData data = (RestrictionData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			PlaceholderAssociatedCheckList associatedChecks =
+			(PlaceholderAssociatedCheckList ) data.getAssociatedChecks();
+			if (associatedChecks != null)
+			{
+				associatedChecks.setPlaceholderId(newValue);
+			}
+		}
+	}
+
+	public boolean isNameNull()
+	{
+		return ((RestrictionData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		RestrictionData data = (RestrictionData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 512)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 512: " + newValue);
+		zSetString(RestrictionFinder.name(), newValue, false, false );
+	}
+
+	public boolean isOtherDateNull()
+	{
+		return ((RestrictionData) this.zSynchronizedGetData()).isOtherDateNull();
+	}
+
+	public String getOtherDate()
+	{
+		RestrictionData data = (RestrictionData) this.zSynchronizedGetData();
+		return data.getOtherDate();
+	}
+
+	public void setOtherDate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'otherDate' cannot exceed maximum length of 256: " + newValue);
+		zSetString(RestrictionFinder.otherDate(), newValue, false, false );
+	}
+
+	public boolean isSpecialConsiderationsNull()
+	{
+		return ((RestrictionData) this.zSynchronizedGetData()).isSpecialConsiderationsNull();
+	}
+
+	public String getSpecialConsiderations()
+	{
+		RestrictionData data = (RestrictionData) this.zSynchronizedGetData();
+		return data.getSpecialConsiderations();
+	}
+
+	public void setSpecialConsiderations(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(RestrictionFinder.specialConsiderations(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		RestrictionData _newData = (RestrictionData) _data;
+		{
+			PlaceholderAssociatedCheckList associatedChecks =
+			(PlaceholderAssociatedCheckList) _newData.getAssociatedChecks();
+			if (associatedChecks != null)
+			{
+				associatedChecks.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		RestrictionData _newData = (RestrictionData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getAssociatedChecks() != null && !(_newData.getAssociatedChecks() instanceof NulledRelation))
+		{
+			((PlaceholderAssociatedCheckList)_newData.getAssociatedChecks()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RestrictionData _newData = (RestrictionData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getAssociatedChecks() != null && !(_newData.getAssociatedChecks() instanceof NulledRelation))
+		{
+			((PlaceholderAssociatedCheckList)_newData.getAssociatedChecks()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = PlaceholderAssociatedCheck.placeholderId</pre>
+	* @return associated checks
+	*/
+	public PlaceholderAssociatedCheckList getAssociatedChecks()
+	{
+		PlaceholderAssociatedCheckList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		RestrictionData _data = (RestrictionData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = PlaceholderAssociatedCheckFinder.placeholderId().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (PlaceholderAssociatedCheckList) _data.getAssociatedChecks();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = PlaceholderAssociatedCheckFinder.placeholderId().eq(_data.getId());
+					_result = new PlaceholderAssociatedCheckList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new AssociatedChecksAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (RestrictionData) _behavior.getCurrentDataForWrite(this);
+				_data.setAssociatedChecks(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (PlaceholderAssociatedCheckList) _data.getAssociatedChecks();
+			if (_result == null)
+			{
+				_result = new PlaceholderAssociatedCheckList();
+				_result.zSetAddHandler(new AssociatedChecksAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (RestrictionData) _behavior.getCurrentDataForWrite(this);
+				_data.setAssociatedChecks(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new PlaceholderAssociatedCheckList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new AssociatedChecksAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setAssociatedChecks(PlaceholderAssociatedCheckList associatedChecks)
+	{
+		PlaceholderAssociatedCheckList _associatedChecks = (PlaceholderAssociatedCheckList) associatedChecks;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RestrictionData _data = (RestrictionData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _associatedChecks != null)
+			{
+				_associatedChecks.zMakeDetached(PlaceholderAssociatedCheckFinder.placeholderId().eq(_data.getId()),
+					_data.getAssociatedChecks());
+			}
+
+			_data.setAssociatedChecks(_associatedChecks);
+			if (_associatedChecks != null)
+			{
+				_associatedChecks.setPlaceholderId(_data.getId());
+				_associatedChecks.zSetAddHandler(new AssociatedChecksAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_associatedChecks.zSetAddHandler(new AssociatedChecksAddHandlerPersisted());
+			PlaceholderAssociatedCheckList associatedChecksToDelete = new PlaceholderAssociatedCheckList();
+			associatedChecksToDelete.addAll(this.getAssociatedChecks());
+			for(int i=0;i < _associatedChecks.size(); i++)
+			{
+				PlaceholderAssociatedCheck item = _associatedChecks.getPlaceholderAssociatedCheckAt(i);
+				if (!associatedChecksToDelete.remove(item))
+				{
+					item.setPlaceholderId(_data.getId());
+					item.cascadeInsert();
+				}
+			}
+
+			associatedChecksToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isAssociatedChecksModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		RestrictionData _data = (RestrictionData) _behavior.getCurrentDataForRead(this);
+		PlaceholderAssociatedCheckList associatedChecks =
+		(PlaceholderAssociatedCheckList) _data.getAssociatedChecks();
+		if( associatedChecks != null)
+		{
+			return associatedChecks.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		RestrictionData _data = (RestrictionData) _behavior.getCurrentDataForWrite(this);
+		PlaceholderAssociatedCheckList associatedChecks =
+		(PlaceholderAssociatedCheckList) _data.getAssociatedChecks();
+		_behavior.insert(this);
+		if (associatedChecks != null)
+		{
+			associatedChecks.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		RestrictionFinder.RestrictionRelatedFinder parentFinder = (RestrictionFinder.RestrictionRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RestrictionData _newData = (RestrictionData) _behavior.getCurrentDataForWrite(this);
+		{
+			PlaceholderAssociatedCheckList associatedChecks =
+			(PlaceholderAssociatedCheckList) _newData.getAssociatedChecks();
+			RelatedFinder dependentFinder = parentFinder.associatedChecks();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, associatedChecks != null, navigationStats);
+			if (associatedChecks != null)
+			{
+				associatedChecks.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Restriction zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		RestrictionData _data = (RestrictionData) _behavior.getCurrentDataForWrite(this);
+		PlaceholderAssociatedCheckList associatedChecks =
+		(PlaceholderAssociatedCheckList) _data.getAssociatedChecks();
+		Restriction original = (Restriction) _behavior.copyThenInsert(this);
+		if (associatedChecks != null)
+		{
+			associatedChecks.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getAssociatedChecks().cascadeDeleteAll();
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return RestrictionFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return RestrictionFinder.getMithraObjectPortal();
+	}
+
+	public Restriction getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, RestrictionFinder.description(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictionFinder.engagementAndTailDate(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictionFinder.engagementDate(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictionFinder.name(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictionFinder.otherDate(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictionFinder.specialConsiderations(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, RestrictionFinder.id(), false);
+		return changed;
+	}
+
+	public int generateAndSetId()
+	{
+		int nextValue =(int) this.generateId();
+		this.setId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		RestrictionData data = (RestrictionData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsIdSet();
+	}
+
+	protected int generateId()
+	{
+		Object sourceAttribute = null;
+		RestrictionFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("PlaceholderId", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (int)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RestrictionData data = (RestrictionData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsIdSet())
+		{
+			data.setId(generateId());
+			PlaceholderAssociatedCheckList associatedChecks =
+			(PlaceholderAssociatedCheckList ) data.getAssociatedChecks();
+			if (associatedChecks != null)
+			{
+				associatedChecks.setPlaceholderId(data.getId());
+			}
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		RestrictionAbstract result = (RestrictionAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class AssociatedChecksAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			PlaceholderAssociatedCheck item = (PlaceholderAssociatedCheck) relatedObject;
+			item.setPlaceholderId(getId());
+		}
+	}
+
+	protected class AssociatedChecksAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			PlaceholderAssociatedCheck item = (PlaceholderAssociatedCheck) relatedObject;
+			item.setPlaceholderId(getId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,498 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class RestrictionData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private String description;
+	private String engagementAndTailDate;
+	private String engagementDate;
+	private int id;
+	private String name;
+	private String otherDate;
+	private String specialConsiderations;
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isEngagementAndTailDateNull()
+	{
+		return this.getEngagementAndTailDate() == null;
+	}
+
+	public boolean isEngagementDateNull()
+	{
+		return this.getEngagementDate() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isOtherDateNull()
+	{
+		return this.getOtherDate() == null;
+	}
+
+	public boolean isSpecialConsiderationsNull()
+	{
+		return this.getSpecialConsiderations() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.description);
+		out.writeObject(this.engagementAndTailDate);
+		out.writeObject(this.engagementDate);
+		out.writeInt(this.id);
+		out.writeBoolean(_isIdSet);
+		out.writeObject(this.name);
+		out.writeObject(this.otherDate);
+		out.writeObject(this.specialConsiderations);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public int zGetDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(description);
+	}
+
+	public void setDescription(String value)
+	{
+		this.description = StringPool.getInstance().getOrAddToCache(value, RestrictionFinder.isFullCache());
+	}
+
+	public void setDescriptionNull()
+	{
+		this.setDescription(null);
+	}
+
+	public String getEngagementAndTailDate()
+	{
+		return this.engagementAndTailDate;
+	}
+
+	public int zGetEngagementAndTailDateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(engagementAndTailDate);
+	}
+
+	public void setEngagementAndTailDate(String value)
+	{
+		this.engagementAndTailDate = StringPool.getInstance().getOrAddToCache(value, RestrictionFinder.isFullCache());
+	}
+
+	public void setEngagementAndTailDateNull()
+	{
+		this.setEngagementAndTailDate(null);
+	}
+
+	public String getEngagementDate()
+	{
+		return this.engagementDate;
+	}
+
+	public int zGetEngagementDateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(engagementDate);
+	}
+
+	public void setEngagementDate(String value)
+	{
+		this.engagementDate = StringPool.getInstance().getOrAddToCache(value, RestrictionFinder.isFullCache());
+	}
+
+	public void setEngagementDateNull()
+	{
+		this.setEngagementDate(null);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+		_isIdSet = true;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, RestrictionFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public String getOtherDate()
+	{
+		return this.otherDate;
+	}
+
+	public int zGetOtherDateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(otherDate);
+	}
+
+	public void setOtherDate(String value)
+	{
+		this.otherDate = StringPool.getInstance().getOrAddToCache(value, RestrictionFinder.isFullCache());
+	}
+
+	public void setOtherDateNull()
+	{
+		this.setOtherDate(null);
+	}
+
+	public String getSpecialConsiderations()
+	{
+		return this.specialConsiderations;
+	}
+
+	public int zGetSpecialConsiderationsAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(specialConsiderations);
+	}
+
+	public void setSpecialConsiderations(String value)
+	{
+		this.specialConsiderations = StringPool.getInstance().getOrAddToCache(value, RestrictionFinder.isFullCache());
+	}
+
+	public void setSpecialConsiderationsNull()
+	{
+		this.setSpecialConsiderations(null);
+	}
+
+	public boolean _isIdSet;
+	public boolean zGetIsIdSet()
+	{
+		return _isIdSet;
+	}
+
+	protected void copyInto(RestrictionData copy, boolean withRelationships)
+	{
+		copy.description = this.description;
+		copy.engagementAndTailDate = this.engagementAndTailDate;
+		copy.engagementDate = this.engagementDate;
+		copy.id = this.id;
+		copy.name = this.name;
+		copy.otherDate = this.otherDate;
+		copy.specialConsiderations = this.specialConsiderations;
+		copy._isIdSet = this._isIdSet;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictionFinder.isFullCache());
+		this.engagementAndTailDate = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictionFinder.isFullCache());
+		this.engagementDate = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictionFinder.isFullCache());
+		this.id = in.readInt();
+		_isIdSet = in.readBoolean();
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictionFinder.isFullCache());
+		this.otherDate = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictionFinder.isFullCache());
+		this.specialConsiderations = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictionFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final RestrictionData otherData = (RestrictionData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getAssociatedChecks()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setAssociatedChecks(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final RestrictionData restrictionData = (RestrictionData) newData;
+		this.setDescription(restrictionData.getDescription());
+		this.setEngagementAndTailDate(restrictionData.getEngagementAndTailDate());
+		this.setEngagementDate(restrictionData.getEngagementDate());
+		this.setName(restrictionData.getName());
+		this.setOtherDate(restrictionData.getOtherDate());
+		this.setSpecialConsiderations(restrictionData.getSpecialConsiderations());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final RestrictionData other = (RestrictionData) newData;
+		if (!isDescriptionNull() ? !getDescription().equals(other.getDescription()) : !other.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isEngagementAndTailDateNull() ? !getEngagementAndTailDate().equals(other.getEngagementAndTailDate()) : !other.isEngagementAndTailDateNull())
+		{
+			return true;
+		}
+
+		if (!isEngagementDateNull() ? !getEngagementDate().equals(other.getEngagementDate()) : !other.isEngagementDateNull())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		if (!isOtherDateNull() ? !getOtherDate().equals(other.getOtherDate()) : !other.isOtherDateNull())
+		{
+			return true;
+		}
+
+		if (!isSpecialConsiderationsNull() ? !getSpecialConsiderations().equals(other.getSpecialConsiderations()) : !other.isSpecialConsiderationsNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		RestrictionData copy = new RestrictionData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		RestrictionData copy = new RestrictionData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.RestrictionData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return RestrictionFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return RestrictionFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.RestrictionData";
+	}
+}
@@ -0,0 +1,774 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SimplePlaceholderFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/model/refactored/placeholder/SimplePlaceholderImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.SimplePlaceholder";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.SimplePlaceholder");
+	private static final SimplePlaceholderSingleFinder<SimplePlaceholder, Object, SimplePlaceholder> finder = new SimplePlaceholderSingleFinder<SimplePlaceholder, Object, SimplePlaceholder>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(SimplePlaceholderFinder.SimplePlaceholderRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("placeholderTypeId");
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addRelationshipName("associatedChecks");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = SimplePlaceholderFinder.id().constructEqualityMapper(PlaceholderAssociatedCheckFinder.placeholderId());
+			result[1] = PlaceholderAssociatedCheckFinder.placeholderId().constructEqualityMapper(SimplePlaceholderFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static SimplePlaceholder findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static SimplePlaceholder findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static SimplePlaceholderList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (SimplePlaceholderListImpl) finder.findMany(operation);
+	}
+
+	public static SimplePlaceholderList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (SimplePlaceholderListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static SimplePlaceholder findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (SimplePlaceholderImpl) FinderUtils.findOne(found);
+	}
+
+	public static SimplePlaceholder findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			SimplePlaceholderData _castedTargetData = (SimplePlaceholderData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static SimplePlaceholderImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (SimplePlaceholderImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class SimplePlaceholderRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<SimplePlaceholder, ParentOwnerType, ReturnType, ReturnListType, OwnerType> implements PlaceholderFinder<SimplePlaceholder>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> placeholderTypeId;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private StringAttribute<ParentOwnerType> description;
+		private SimplePlaceholderAssociatedChecksFinderSubclass<ParentOwnerType> associatedChecks;
+		public SimplePlaceholderRelatedFinder()
+		{
+			super();
+		}
+
+		public SimplePlaceholderRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.SimplePlaceholderFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return SimplePlaceholderFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return SimplePlaceholderFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return SimplePlaceholderFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.placeholderTypeId();
+			attributes[1] = this.id();
+			attributes[2] = this.name();
+			attributes[3] = this.description();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.associatedChecks());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.associatedChecks());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public SimplePlaceholder findOne(com.gs.fw.finder.Operation operation)
+		{
+			return SimplePlaceholderFinder.findOne(operation, false);
+		}
+
+		public SimplePlaceholder findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return SimplePlaceholderFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends SimplePlaceholder> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new SimplePlaceholderListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends SimplePlaceholder> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			SimplePlaceholderListImpl result = (SimplePlaceholderListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends SimplePlaceholder> constructEmptyList()
+		{
+			return new SimplePlaceholderListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 376751777;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> placeholderTypeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.placeholderTypeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PLACEHOLDER_TYPE","","placeholderTypeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SimplePlaceholderFinder.placeholderTypeId(), this.mapper, this.zGetValueSelector());
+				this.placeholderTypeId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PLACEHOLDER_ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,true, false) :
+					new MappedIntegerAttribute(SimplePlaceholderFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PLACEHOLDER_NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,512,true, false) :
+					new MappedStringAttribute(SimplePlaceholderFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(SimplePlaceholderFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public PlaceholderAssociatedCheckFinder.PlaceholderAssociatedCheckCollectionFinderForRelatedClasses<ParentOwnerType, PlaceholderAssociatedCheckList, SimplePlaceholder> associatedChecks()
+		{
+			SimplePlaceholderAssociatedChecksFinderSubclass<ParentOwnerType> result = this.associatedChecks;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SimplePlaceholderFinder.zGetSimplePlaceholderAssociatedChecksReverseMapper());
+				newMapper.setToMany(true);
+				result = new SimplePlaceholderAssociatedChecksFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.associatedChecks = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return SimplePlaceholderFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return SimplePlaceholderFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class SimplePlaceholderCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends SimplePlaceholderRelatedFinder<ParentOwnerType, ReturnType, SimplePlaceholderList, OwnerType>
+	{
+		public SimplePlaceholderCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class SimplePlaceholderCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends SimplePlaceholderCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SimplePlaceholderCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class SimplePlaceholderSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends SimplePlaceholderRelatedFinder<ParentOwnerType, ReturnType, SimplePlaceholderList, OwnerType>
+	implements ToOneFinder
+	{
+		public SimplePlaceholderSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public SimplePlaceholderSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(SimplePlaceholder other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public SimplePlaceholder findByPrimaryKey(int id)
+		{
+			SimplePlaceholder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (SimplePlaceholder) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class SimplePlaceholderSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends SimplePlaceholderSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SimplePlaceholderSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper associatedChecksReverseMapper = null;
+	public static Mapper zGetSimplePlaceholderAssociatedChecksReverseMapper()
+	{
+		if (associatedChecksReverseMapper == null)
+		{
+			associatedChecksReverseMapper = zConstructSimplePlaceholderAssociatedChecksReverseMapper();
+		}
+
+		return associatedChecksReverseMapper;
+	}
+
+	private static Mapper associatedChecksMapper = null;
+	public static Mapper zGetSimplePlaceholderAssociatedChecksMapper()
+	{
+		if (associatedChecksMapper == null)
+		{
+			associatedChecksMapper = zConstructSimplePlaceholderAssociatedChecksMapper();
+		}
+
+		return associatedChecksMapper;
+	}
+
+	private static Mapper associatedChecksPureReverseMapper = null;
+	public static Mapper zGetSimplePlaceholderAssociatedChecksPureReverseMapper()
+	{
+		if (associatedChecksPureReverseMapper == null)
+		{
+			associatedChecksPureReverseMapper = zConstructSimplePlaceholderAssociatedChecksPureReverseMapper();
+		}
+
+		return associatedChecksPureReverseMapper;
+	}
+
+	private static Mapper zConstructSimplePlaceholderAssociatedChecksPureReverseMapper()
+	{
+		Mapper associatedChecksMapper = SimplePlaceholderFinder.zGetConstantJoin(0);
+		associatedChecksMapper.setName("associatedChecks");
+		return associatedChecksMapper;
+	}
+
+	private static Mapper zConstructSimplePlaceholderAssociatedChecksReverseMapper()
+	{
+		Mapper associatedChecksMapper = SimplePlaceholderFinder.zGetConstantJoin(0);
+		associatedChecksMapper.setName("associatedChecks");
+		return associatedChecksMapper;
+	}
+
+	private static Mapper zConstructSimplePlaceholderAssociatedChecksMapper()
+	{
+		Mapper associatedChecksMapper = SimplePlaceholderFinder.zGetConstantJoin(1);
+		associatedChecksMapper.setName("associatedChecks_Reverse");
+		return associatedChecksMapper;
+	}
+
+	/** maps to PLACEHOLDER.PLACEHOLDER_TYPE **/
+	public static IntegerAttribute<SimplePlaceholder> placeholderTypeId()
+	{
+		return finder.placeholderTypeId();
+	}
+
+	/** maps to PLACEHOLDER.PLACEHOLDER_ID **/
+	public static IntegerAttribute<SimplePlaceholder> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to PLACEHOLDER.PLACEHOLDER_NAME **/
+	public static StringAttribute<SimplePlaceholder> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to PLACEHOLDER.DESCRIPTION **/
+	public static StringAttribute<SimplePlaceholder> description()
+	{
+		return finder.description();
+	}
+
+	public static PlaceholderAssociatedCheckFinder.PlaceholderAssociatedCheckCollectionFinderForRelatedClasses<SimplePlaceholder, PlaceholderAssociatedCheckList, SimplePlaceholder> associatedChecks()
+	{
+		return finder.associatedChecks();
+	}
+
+	public static class SimplePlaceholderAssociatedChecksFinderSubclass<ParentOwnerType> extends PlaceholderAssociatedCheckFinder.PlaceholderAssociatedCheckCollectionFinderForRelatedClasses<ParentOwnerType, PlaceholderAssociatedCheckList, SimplePlaceholder>
+	{
+		public SimplePlaceholderAssociatedChecksFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "associatedChecks";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SimplePlaceholderAssociatedChecksFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((SimplePlaceholderImpl) _obj).isAssociatedChecksModifiedSinceDetachment();
+		}
+
+		protected PlaceholderAssociatedCheckList plainValueOf(SimplePlaceholder _obj)
+		{
+			return _obj.getAssociatedChecks();
+		}
+
+		protected PlaceholderAssociatedCheckList plainListValueOf(Object _obj)
+		{
+			return ((SimplePlaceholderList)_obj).getAssociatedChecks();
+		}
+	}
+
+	public static Operation eq(SimplePlaceholder other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static SimplePlaceholderSingleFinder<SimplePlaceholder, Object, SimplePlaceholder> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			placeholderTypeId()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.SimplePlaceholder");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
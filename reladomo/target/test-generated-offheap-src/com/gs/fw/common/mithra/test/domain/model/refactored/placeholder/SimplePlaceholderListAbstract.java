@@ -0,0 +1,12 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface SimplePlaceholderListAbstract extends List<SimplePlaceholder>
+{
+	public PlaceholderAssociatedCheckList getAssociatedChecks();
+	public void setDescription(String newValue);
+	public void setId(int newValue);
+	public void setName(String newValue);
+	public void setPlaceholderTypeId(int newValue);
+}
@@ -0,0 +1,475 @@
+package com.gs.fw.common.mithra.test.domain.nvmdev;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class NvmDevNetworkDeviceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(NvmDevNetworkDevice.class.getName());
+	public NvmDevNetworkDeviceAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NvmDevNetworkDevice getDetachedCopy() throws MithraBusinessException
+	{
+		return (NvmDevNetworkDevice) super.getDetachedCopy();
+	}
+
+	public NvmDevNetworkDevice getNonPersistentCopy() throws MithraBusinessException
+	{
+		NvmDevNetworkDevice result = (NvmDevNetworkDevice) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public NvmDevNetworkDevice copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NvmDevNetworkDevice) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public NvmDevNetworkDevice zFindOriginal()
+	{
+		NvmDevNetworkDeviceData data = (NvmDevNetworkDeviceData) this.currentData;
+		Operation op;
+		op = NvmDevNetworkDeviceFinder.networkDeviceId().eq(data.getNetworkDeviceId());
+		return NvmDevNetworkDeviceFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isVirtualLansModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NvmDevNetworkDeviceData();
+	}
+
+	protected void zSetFromNvmDevNetworkDeviceData( NvmDevNetworkDeviceData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromNvmDevNetworkDeviceData( NvmDevNetworkDeviceData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isHostnameNull()
+	{
+		return ((NvmDevNetworkDeviceData) this.zSynchronizedGetData()).isHostnameNull();
+	}
+
+	public String getHostname()
+	{
+		NvmDevNetworkDeviceData data = (NvmDevNetworkDeviceData) this.zSynchronizedGetData();
+		return data.getHostname();
+	}
+
+	public void setHostname(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		throw new MithraBusinessException("Attribute 'hostname' cannot exceed maximum length of 255: " + newValue);
+		zSetString(NvmDevNetworkDeviceFinder.hostname(), newValue, false, false );
+	}
+
+	public boolean isManagementIpAddressNull()
+	{
+		return ((NvmDevNetworkDeviceData) this.zSynchronizedGetData()).isManagementIpAddressNull();
+	}
+
+	public String getManagementIpAddress()
+	{
+		NvmDevNetworkDeviceData data = (NvmDevNetworkDeviceData) this.zSynchronizedGetData();
+		return data.getManagementIpAddress();
+	}
+
+	public void setManagementIpAddress(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 16)
+		throw new MithraBusinessException("Attribute 'managementIpAddress' cannot exceed maximum length of 16: " + newValue);
+		zSetString(NvmDevNetworkDeviceFinder.managementIpAddress(), newValue, false, false );
+	}
+
+	public boolean isNetworkDeviceIdNull()
+	{
+		return ((NvmDevNetworkDeviceData) this.zSynchronizedGetData()).isNetworkDeviceIdNull();
+	}
+
+	public long getNetworkDeviceId()
+	{
+		NvmDevNetworkDeviceData data = (NvmDevNetworkDeviceData) this.zSynchronizedGetData();
+		return data.getNetworkDeviceId();
+	}
+
+	public void setNetworkDeviceId(long newValue)
+	{
+		MithraDataObject d = zSetLong(NvmDevNetworkDeviceFinder.networkDeviceId(), newValue, true, false ,false);
+		if (d == null) return;
+		NvmDevNetworkDeviceData data = (NvmDevNetworkDeviceData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			NvmDevVirtualLanList virtualLans =
+			(NvmDevVirtualLanList ) data.getVirtualLans();
+			if (virtualLans != null)
+			{
+				virtualLans.setNetworkDeviceId(newValue);
+			}
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NvmDevNetworkDeviceData _newData = (NvmDevNetworkDeviceData) _data;
+		{
+			NvmDevVirtualLanList virtualLans =
+			(NvmDevVirtualLanList) _newData.getVirtualLans();
+			if (virtualLans != null)
+			{
+				virtualLans.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		NvmDevNetworkDeviceData _newData = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getVirtualLans() != null && !(_newData.getVirtualLans() instanceof NulledRelation))
+		{
+			((NvmDevVirtualLanList)_newData.getVirtualLans()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NvmDevNetworkDeviceData _newData = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getVirtualLans() != null && !(_newData.getVirtualLans() instanceof NulledRelation))
+		{
+			((NvmDevVirtualLanList)_newData.getVirtualLans()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.networkDeviceId = NvmDevVirtualLan.networkDeviceId</pre>
+	* @return virtual lans
+	*/
+	public NvmDevVirtualLanList getVirtualLans()
+	{
+		NvmDevVirtualLanList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		NvmDevNetworkDeviceData _data = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = NvmDevVirtualLanFinder.networkDeviceId().eq(_data.getNetworkDeviceId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (NvmDevVirtualLanList) _data.getVirtualLans();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = NvmDevVirtualLanFinder.networkDeviceId().eq(_data.getNetworkDeviceId());
+					_result = new NvmDevVirtualLanList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new VirtualLansAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForWrite(this);
+				_data.setVirtualLans(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (NvmDevVirtualLanList) _data.getVirtualLans();
+			if (_result == null)
+			{
+				_result = new NvmDevVirtualLanList();
+				_result.zSetAddHandler(new VirtualLansAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForWrite(this);
+				_data.setVirtualLans(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new NvmDevVirtualLanList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new VirtualLansAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setVirtualLans(NvmDevVirtualLanList virtualLans)
+	{
+		NvmDevVirtualLanList _virtualLans = (NvmDevVirtualLanList) virtualLans;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NvmDevNetworkDeviceData _data = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _virtualLans != null)
+			{
+				_virtualLans.zMakeDetached(NvmDevVirtualLanFinder.networkDeviceId().eq(_data.getNetworkDeviceId()),
+					_data.getVirtualLans());
+			}
+
+			_data.setVirtualLans(_virtualLans);
+			if (_virtualLans != null)
+			{
+				_virtualLans.setNetworkDeviceId(_data.getNetworkDeviceId());
+				_virtualLans.zSetAddHandler(new VirtualLansAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_virtualLans.zSetAddHandler(new VirtualLansAddHandlerPersisted());
+			NvmDevVirtualLanList virtualLansToDelete = new NvmDevVirtualLanList();
+			virtualLansToDelete.addAll(this.getVirtualLans());
+			for(int i=0;i < _virtualLans.size(); i++)
+			{
+				NvmDevVirtualLan item = _virtualLans.getNvmDevVirtualLanAt(i);
+				if (!virtualLansToDelete.remove(item))
+				{
+					item.setNetworkDeviceId(_data.getNetworkDeviceId());
+					item.cascadeInsert();
+				}
+			}
+
+			virtualLansToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isVirtualLansModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		NvmDevNetworkDeviceData _data = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForRead(this);
+		NvmDevVirtualLanList virtualLans =
+		(NvmDevVirtualLanList) _data.getVirtualLans();
+		if( virtualLans != null)
+		{
+			return virtualLans.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NvmDevNetworkDeviceData _data = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForWrite(this);
+		NvmDevVirtualLanList virtualLans =
+		(NvmDevVirtualLanList) _data.getVirtualLans();
+		_behavior.insert(this);
+		if (virtualLans != null)
+		{
+			virtualLans.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		NvmDevNetworkDeviceFinder.NvmDevNetworkDeviceRelatedFinder parentFinder = (NvmDevNetworkDeviceFinder.NvmDevNetworkDeviceRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NvmDevNetworkDeviceData _newData = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForWrite(this);
+		{
+			NvmDevVirtualLanList virtualLans =
+			(NvmDevVirtualLanList) _newData.getVirtualLans();
+			RelatedFinder dependentFinder = parentFinder.virtualLans();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, virtualLans != null, navigationStats);
+			if (virtualLans != null)
+			{
+				virtualLans.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public NvmDevNetworkDevice zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NvmDevNetworkDeviceData _data = (NvmDevNetworkDeviceData) _behavior.getCurrentDataForWrite(this);
+		NvmDevVirtualLanList virtualLans =
+		(NvmDevVirtualLanList) _data.getVirtualLans();
+		NvmDevNetworkDevice original = (NvmDevNetworkDevice) _behavior.copyThenInsert(this);
+		if (virtualLans != null)
+		{
+			virtualLans.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getVirtualLans().cascadeDeleteAll();
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return NvmDevNetworkDeviceFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NvmDevNetworkDeviceFinder.getMithraObjectPortal();
+	}
+
+	public NvmDevNetworkDevice getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, NvmDevNetworkDeviceFinder.hostname(), false);
+		changed |= zUpdateString(behavior, data, newData, NvmDevNetworkDeviceFinder.managementIpAddress(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, NvmDevNetworkDeviceFinder.networkDeviceId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		NvmDevNetworkDeviceAbstract result = (NvmDevNetworkDeviceAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class VirtualLansAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			NvmDevVirtualLan item = (NvmDevVirtualLan) relatedObject;
+			item.setNetworkDeviceId(getNetworkDeviceId());
+		}
+	}
+
+	protected class VirtualLansAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			NvmDevVirtualLan item = (NvmDevVirtualLan) relatedObject;
+			item.setNetworkDeviceId(getNetworkDeviceId());
+			item.cascadeInsert();
+		}
+	}
+}
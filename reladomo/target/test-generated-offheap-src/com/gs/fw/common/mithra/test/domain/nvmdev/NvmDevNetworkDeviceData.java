@@ -0,0 +1,348 @@
+package com.gs.fw.common.mithra.test.domain.nvmdev;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NvmDevNetworkDeviceData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private String hostname;
+	private String managementIpAddress;
+	private long networkDeviceId;
+	public boolean isHostnameNull()
+	{
+		return this.getHostname() == null;
+	}
+
+	public boolean isManagementIpAddressNull()
+	{
+		return this.getManagementIpAddress() == null;
+	}
+
+	public boolean isNetworkDeviceIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.hostname);
+		out.writeObject(this.managementIpAddress);
+		out.writeLong(this.networkDeviceId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getHostname()
+	{
+		return this.hostname;
+	}
+
+	public int zGetHostnameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(hostname);
+	}
+
+	public void setHostname(String value)
+	{
+		this.hostname = StringPool.getInstance().getOrAddToCache(value, NvmDevNetworkDeviceFinder.isFullCache());
+	}
+
+	public void setHostnameNull()
+	{
+		this.setHostname(null);
+	}
+
+	public String getManagementIpAddress()
+	{
+		return this.managementIpAddress;
+	}
+
+	public int zGetManagementIpAddressAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(managementIpAddress);
+	}
+
+	public void setManagementIpAddress(String value)
+	{
+		this.managementIpAddress = StringPool.getInstance().getOrAddToCache(value, NvmDevNetworkDeviceFinder.isFullCache());
+	}
+
+	public void setManagementIpAddressNull()
+	{
+		this.setManagementIpAddress(null);
+	}
+
+	public long getNetworkDeviceId()
+	{
+		return this.networkDeviceId;
+	}
+
+	public void setNetworkDeviceId(long value)
+	{
+		this.networkDeviceId = value;
+	}
+
+	public void setNetworkDeviceIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(NvmDevNetworkDeviceData copy, boolean withRelationships)
+	{
+		copy.hostname = this.hostname;
+		copy.managementIpAddress = this.managementIpAddress;
+		copy.networkDeviceId = this.networkDeviceId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.hostname = StringPool.getInstance().getOrAddToCache((String)in.readObject(), NvmDevNetworkDeviceFinder.isFullCache());
+		this.managementIpAddress = StringPool.getInstance().getOrAddToCache((String)in.readObject(), NvmDevNetworkDeviceFinder.isFullCache());
+		this.networkDeviceId = in.readLong();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final NvmDevNetworkDeviceData otherData = (NvmDevNetworkDeviceData) other;
+		if (getNetworkDeviceId() != otherData.getNetworkDeviceId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.networkDeviceId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.networkDeviceId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getVirtualLans()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setVirtualLans(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final NvmDevNetworkDeviceData nvmDevNetworkDeviceData = (NvmDevNetworkDeviceData) newData;
+		this.setHostname(nvmDevNetworkDeviceData.getHostname());
+		this.setManagementIpAddress(nvmDevNetworkDeviceData.getManagementIpAddress());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final NvmDevNetworkDeviceData other = (NvmDevNetworkDeviceData) newData;
+		if (!isHostnameNull() ? !getHostname().equals(other.getHostname()) : !other.isHostnameNull())
+		{
+			return true;
+		}
+
+		if (!isManagementIpAddressNull() ? !getManagementIpAddress().equals(other.getManagementIpAddress()) : !other.isManagementIpAddressNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		NvmDevNetworkDeviceData copy = new NvmDevNetworkDeviceData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		NvmDevNetworkDeviceData copy = new NvmDevNetworkDeviceData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "networkDeviceId: "+(""+getNetworkDeviceId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.nvmdev.NvmDevNetworkDeviceData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return NvmDevNetworkDeviceFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return NvmDevNetworkDeviceFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.nvmdev.NvmDevNetworkDeviceData";
+	}
+}
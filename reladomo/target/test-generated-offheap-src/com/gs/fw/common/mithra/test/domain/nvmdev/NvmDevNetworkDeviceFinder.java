@@ -0,0 +1,752 @@
+package com.gs.fw.common.mithra.test.domain.nvmdev;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NvmDevNetworkDeviceFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/nvmdev/NvmDevNetworkDevice";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.nvmdev.NvmDevNetworkDevice";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.nvmdev.NvmDevNetworkDevice");
+	private static final NvmDevNetworkDeviceSingleFinder<NvmDevNetworkDevice, Object, NvmDevNetworkDevice> finder = new NvmDevNetworkDeviceSingleFinder<NvmDevNetworkDevice, Object, NvmDevNetworkDevice>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(NvmDevNetworkDeviceFinder.NvmDevNetworkDeviceRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("networkDeviceId");
+		finderMethodMap.addNormalAttributeName("hostname");
+		finderMethodMap.addNormalAttributeName("managementIpAddress");
+		finderMethodMap.addRelationshipName("virtualLans");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = NvmDevNetworkDeviceFinder.networkDeviceId().constructEqualityMapper(NvmDevVirtualLanFinder.networkDeviceId());
+			result[1] = NvmDevVirtualLanFinder.networkDeviceId().constructEqualityMapper(NvmDevNetworkDeviceFinder.networkDeviceId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static NvmDevNetworkDevice findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static NvmDevNetworkDevice findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static NvmDevNetworkDeviceList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (NvmDevNetworkDeviceList) finder.findMany(operation);
+	}
+
+	public static NvmDevNetworkDeviceList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (NvmDevNetworkDeviceList) finder.findManyBypassCache(operation);
+	}
+
+	private static NvmDevNetworkDevice findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (NvmDevNetworkDevice) FinderUtils.findOne(found);
+	}
+
+	public static NvmDevNetworkDevice findByPrimaryKey(long networkDeviceId)
+	{
+		return finder.findByPrimaryKey(networkDeviceId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			NvmDevNetworkDeviceData _castedTargetData = (NvmDevNetworkDeviceData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getNetworkDeviceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static NvmDevNetworkDevice zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (NvmDevNetworkDevice) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class NvmDevNetworkDeviceRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<NvmDevNetworkDevice, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> networkDeviceId;
+		private StringAttribute<ParentOwnerType> hostname;
+		private StringAttribute<ParentOwnerType> managementIpAddress;
+		private NvmDevNetworkDeviceVirtualLansFinderSubclass<ParentOwnerType> virtualLans;
+		public NvmDevNetworkDeviceRelatedFinder()
+		{
+			super();
+		}
+
+		public NvmDevNetworkDeviceRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.nvmdev.NvmDevNetworkDeviceFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return NvmDevNetworkDeviceFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return NvmDevNetworkDeviceFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return NvmDevNetworkDeviceFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.networkDeviceId();
+			attributes[1] = this.hostname();
+			attributes[2] = this.managementIpAddress();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.virtualLans());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.virtualLans());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public NvmDevNetworkDevice findOne(com.gs.fw.finder.Operation operation)
+		{
+			return NvmDevNetworkDeviceFinder.findOne(operation, false);
+		}
+
+		public NvmDevNetworkDevice findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return NvmDevNetworkDeviceFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends NvmDevNetworkDevice> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new NvmDevNetworkDeviceList((Operation) operation);
+		}
+
+		public MithraList<? extends NvmDevNetworkDevice> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			NvmDevNetworkDeviceList result = (NvmDevNetworkDeviceList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends NvmDevNetworkDevice> constructEmptyList()
+		{
+			return new NvmDevNetworkDeviceList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -747224129;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> networkDeviceId()
+		{
+			LongAttribute<ParentOwnerType> result = this.networkDeviceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("network_device_id","","networkDeviceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(NvmDevNetworkDeviceFinder.networkDeviceId(), this.mapper, this.zGetValueSelector());
+				this.networkDeviceId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> hostname()
+		{
+			StringAttribute<ParentOwnerType> result = this.hostname;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("hostname","","hostname",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,255,true, false) :
+					new MappedStringAttribute(NvmDevNetworkDeviceFinder.hostname(), this.mapper, this.zGetValueSelector());
+				this.hostname = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> managementIpAddress()
+		{
+			StringAttribute<ParentOwnerType> result = this.managementIpAddress;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("management_ip_address","","managementIpAddress",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,16,true, false) :
+					new MappedStringAttribute(NvmDevNetworkDeviceFinder.managementIpAddress(), this.mapper, this.zGetValueSelector());
+				this.managementIpAddress = result;
+			}
+
+			return result;
+		}
+
+		public NvmDevVirtualLanFinder.NvmDevVirtualLanCollectionFinderForRelatedClasses<ParentOwnerType, NvmDevVirtualLanList, NvmDevNetworkDevice> virtualLans()
+		{
+			NvmDevNetworkDeviceVirtualLansFinderSubclass<ParentOwnerType> result = this.virtualLans;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(NvmDevNetworkDeviceFinder.zGetNvmDevNetworkDeviceVirtualLansReverseMapper());
+				newMapper.setToMany(true);
+				result = new NvmDevNetworkDeviceVirtualLansFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.virtualLans = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return NvmDevNetworkDeviceFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return NvmDevNetworkDeviceFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class NvmDevNetworkDeviceCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends NvmDevNetworkDeviceRelatedFinder<ParentOwnerType, ReturnType, NvmDevNetworkDeviceList, OwnerType>
+	{
+		public NvmDevNetworkDeviceCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class NvmDevNetworkDeviceCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends NvmDevNetworkDeviceCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NvmDevNetworkDeviceCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class NvmDevNetworkDeviceSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends NvmDevNetworkDeviceRelatedFinder<ParentOwnerType, ReturnType, NvmDevNetworkDeviceList, OwnerType>
+	implements ToOneFinder
+	{
+		public NvmDevNetworkDeviceSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public NvmDevNetworkDeviceSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(NvmDevNetworkDevice other)
+		{
+			return this.networkDeviceId().eq(other.getNetworkDeviceId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public NvmDevNetworkDevice findByPrimaryKey(long networkDeviceId)
+		{
+			NvmDevNetworkDevice _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(networkDeviceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (NvmDevNetworkDevice) _related;
+			if (_related == null)
+			{
+				_op = this.networkDeviceId().eq(networkDeviceId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class NvmDevNetworkDeviceSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends NvmDevNetworkDeviceSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public NvmDevNetworkDeviceSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper virtualLansReverseMapper = null;
+	public static Mapper zGetNvmDevNetworkDeviceVirtualLansReverseMapper()
+	{
+		if (virtualLansReverseMapper == null)
+		{
+			virtualLansReverseMapper = zConstructNvmDevNetworkDeviceVirtualLansReverseMapper();
+		}
+
+		return virtualLansReverseMapper;
+	}
+
+	private static Mapper virtualLansMapper = null;
+	public static Mapper zGetNvmDevNetworkDeviceVirtualLansMapper()
+	{
+		if (virtualLansMapper == null)
+		{
+			virtualLansMapper = zConstructNvmDevNetworkDeviceVirtualLansMapper();
+		}
+
+		return virtualLansMapper;
+	}
+
+	private static Mapper virtualLansPureReverseMapper = null;
+	public static Mapper zGetNvmDevNetworkDeviceVirtualLansPureReverseMapper()
+	{
+		if (virtualLansPureReverseMapper == null)
+		{
+			virtualLansPureReverseMapper = zConstructNvmDevNetworkDeviceVirtualLansPureReverseMapper();
+		}
+
+		return virtualLansPureReverseMapper;
+	}
+
+	private static Mapper zConstructNvmDevNetworkDeviceVirtualLansPureReverseMapper()
+	{
+		Mapper virtualLansMapper = NvmDevNetworkDeviceFinder.zGetConstantJoin(0);
+		virtualLansMapper.setName("virtualLans");
+		return virtualLansMapper;
+	}
+
+	private static Mapper zConstructNvmDevNetworkDeviceVirtualLansReverseMapper()
+	{
+		Mapper virtualLansMapper = NvmDevNetworkDeviceFinder.zGetConstantJoin(0);
+		virtualLansMapper.setName("virtualLans");
+		return virtualLansMapper;
+	}
+
+	private static Mapper zConstructNvmDevNetworkDeviceVirtualLansMapper()
+	{
+		Mapper virtualLansMapper = NvmDevNetworkDeviceFinder.zGetConstantJoin(1);
+		virtualLansMapper.setName("virtualLans_Reverse");
+		return virtualLansMapper;
+	}
+
+	/** maps to nvm_discovery_network_device.network_device_id **/
+	public static LongAttribute<NvmDevNetworkDevice> networkDeviceId()
+	{
+		return finder.networkDeviceId();
+	}
+
+	/** maps to nvm_discovery_network_device.hostname **/
+	public static StringAttribute<NvmDevNetworkDevice> hostname()
+	{
+		return finder.hostname();
+	}
+
+	/** maps to nvm_discovery_network_device.management_ip_address **/
+	public static StringAttribute<NvmDevNetworkDevice> managementIpAddress()
+	{
+		return finder.managementIpAddress();
+	}
+
+	public static NvmDevVirtualLanFinder.NvmDevVirtualLanCollectionFinderForRelatedClasses<NvmDevNetworkDevice, NvmDevVirtualLanList, NvmDevNetworkDevice> virtualLans()
+	{
+		return finder.virtualLans();
+	}
+
+	public static class NvmDevNetworkDeviceVirtualLansFinderSubclass<ParentOwnerType> extends NvmDevVirtualLanFinder.NvmDevVirtualLanCollectionFinderForRelatedClasses<ParentOwnerType, NvmDevVirtualLanList, NvmDevNetworkDevice>
+	{
+		public NvmDevNetworkDeviceVirtualLansFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "virtualLans";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new NvmDevNetworkDeviceVirtualLansFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((NvmDevNetworkDevice) _obj).isVirtualLansModifiedSinceDetachment();
+		}
+
+		protected NvmDevVirtualLanList plainValueOf(NvmDevNetworkDevice _obj)
+		{
+			return _obj.getVirtualLans();
+		}
+
+		protected NvmDevVirtualLanList plainListValueOf(Object _obj)
+		{
+			return ((NvmDevNetworkDeviceList)_obj).getVirtualLans();
+		}
+	}
+
+	public static Operation eq(NvmDevNetworkDevice other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(networkDeviceId());
+	}
+
+	public static NvmDevNetworkDeviceSingleFinder<NvmDevNetworkDevice, Object, NvmDevNetworkDevice> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			networkDeviceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			networkDeviceId()
+			, networkDeviceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.fw.common.mithra.extractor.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.nvmdev.NvmDevNetworkDevice");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,298 @@
+package com.gs.fw.common.mithra.test.domain.nvmdev;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class NvmDevVirtualLanAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(NvmDevVirtualLan.class.getName());
+	public NvmDevVirtualLanAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NvmDevVirtualLan getDetachedCopy() throws MithraBusinessException
+	{
+		return (NvmDevVirtualLan) super.getDetachedCopy();
+	}
+
+	public NvmDevVirtualLan getNonPersistentCopy() throws MithraBusinessException
+	{
+		NvmDevVirtualLan result = (NvmDevVirtualLan) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public NvmDevVirtualLan copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NvmDevVirtualLan) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public NvmDevVirtualLan zFindOriginal()
+	{
+		NvmDevVirtualLanData data = (NvmDevVirtualLanData) this.currentData;
+		Operation op;
+		op = NvmDevVirtualLanFinder.virtualLanId().eq(data.getVirtualLanId());
+		return NvmDevVirtualLanFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NvmDevVirtualLanData();
+	}
+
+	protected void zSetFromNvmDevVirtualLanData( NvmDevVirtualLanData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromNvmDevVirtualLanData( NvmDevVirtualLanData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((NvmDevVirtualLanData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		NvmDevVirtualLanData data = (NvmDevVirtualLanData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 255: " + newValue);
+		zSetString(NvmDevVirtualLanFinder.description(), newValue, false, false );
+	}
+
+	public boolean isNetworkDeviceIdNull()
+	{
+		return ((NvmDevVirtualLanData) this.zSynchronizedGetData()).isNetworkDeviceIdNull();
+	}
+
+	public long getNetworkDeviceId()
+	{
+		NvmDevVirtualLanData data = (NvmDevVirtualLanData) this.zSynchronizedGetData();
+		if (data.isNetworkDeviceIdNull()) MithraNullPrimitiveException.throwNew("networkDeviceId", data);
+		return data.getNetworkDeviceId();
+	}
+
+	public void setNetworkDeviceId(long newValue)
+	{
+		zSetLong(NvmDevVirtualLanFinder.networkDeviceId(), newValue, false, false ,true);
+	}
+
+	public boolean isNumberNull()
+	{
+		return ((NvmDevVirtualLanData) this.zSynchronizedGetData()).isNumberNull();
+	}
+
+	public int getNumber()
+	{
+		NvmDevVirtualLanData data = (NvmDevVirtualLanData) this.zSynchronizedGetData();
+		if (data.isNumberNull()) MithraNullPrimitiveException.throwNew("number", data);
+		return data.getNumber();
+	}
+
+	public void setNumber(int newValue)
+	{
+		zSetInteger(NvmDevVirtualLanFinder.number(), newValue, false, false ,true);
+	}
+
+	public boolean isVirtualLanIdNull()
+	{
+		return ((NvmDevVirtualLanData) this.zSynchronizedGetData()).isVirtualLanIdNull();
+	}
+
+	public long getVirtualLanId()
+	{
+		NvmDevVirtualLanData data = (NvmDevVirtualLanData) this.zSynchronizedGetData();
+		return data.getVirtualLanId();
+	}
+
+	public void setVirtualLanId(long newValue)
+	{
+		zSetLong(NvmDevVirtualLanFinder.virtualLanId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, NvmDevVirtualLanFinder.networkDeviceId(), false);
+		zNullify(behavior, data, NvmDevVirtualLanFinder.number(), false);
+	}
+
+	public void setNetworkDeviceIdNull()
+	{
+		zNullify(NvmDevVirtualLanFinder.networkDeviceId(), false);
+	}
+
+	public void setNumberNull()
+	{
+		zNullify(NvmDevVirtualLanFinder.number(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NvmDevVirtualLanData _newData = (NvmDevVirtualLanData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		NvmDevVirtualLanData _newData = (NvmDevVirtualLanData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NvmDevVirtualLanData _newData = (NvmDevVirtualLanData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public NvmDevVirtualLan zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NvmDevVirtualLan original = (NvmDevVirtualLan) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return NvmDevVirtualLanFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NvmDevVirtualLanFinder.getMithraObjectPortal();
+	}
+
+	public NvmDevVirtualLan getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, NvmDevVirtualLanFinder.description(), false);
+		changed |= zUpdateLong(behavior, data, newData, NvmDevVirtualLanFinder.networkDeviceId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, NvmDevVirtualLanFinder.number(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, NvmDevVirtualLanFinder.virtualLanId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		NvmDevVirtualLanAbstract result = (NvmDevVirtualLanAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
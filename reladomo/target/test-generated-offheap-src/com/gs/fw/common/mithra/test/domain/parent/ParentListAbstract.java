@@ -0,0 +1,124 @@
+package com.gs.fw.common.mithra.test.domain.parent;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.child.Child;
+import com.gs.fw.common.mithra.test.domain.child.ChildAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildData;
+import com.gs.fw.common.mithra.test.domain.child.ChildFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ParentListAbstract extends DelegatingList<Parent> implements MithraList<Parent>
+{
+	public ParentListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ParentListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ParentListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ParentListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Parent[] elements()
+	{
+		Parent[] result = new Parent[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ParentList intersection(ParentList another)
+	{
+		return (ParentList)super.intersection(another);
+	}
+
+	public Parent getParentAt(int index)
+	{
+		return (Parent)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.childName = Child.name</pre>
+	* @see Child#getParent() reverse relationship Child.getParent()
+	* @return children
+	*/
+	public ChildList getChildren()
+	{
+		return (ChildList) this.zGetDelegated().resolveRelationship(this, ParentFinder.children());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParentFinder.getMithraObjectPortal();
+	}
+
+	public ParentList getNonPersistentCopy()
+	{
+		ParentList result = new ParentList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ParentList asAdhoc()
+	{
+		return (ParentList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<Parent> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,604 @@
+package com.gs.fw.common.mithra.test.domain.parent;
+import com.gs.fw.common.mithra.test.domain.child.*;
+import com.gs.fw.common.mithra.test.domain.child.ChildType;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeData;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeList;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatus;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusData;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusFinder;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ParentTypeAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy forliveTestByte = new LiveTestByteRhs();
+	private static final class LiveTestByteRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ParentType _castedSrcObject = (ParentType) _srcObject;
+			ParentType _castedTargetData = (ParentType) _targetData;
+			if (_castedSrcObject.getId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ParentType _castedSrcObject = (ParentType) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private byte isNullBits0 = 0;
+	private boolean alive;
+	private byte aliveByte;
+	private int id;
+	private String name;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isAliveNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isAliveByteNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.alive);
+		out.writeByte(this.aliveByte);
+		out.writeInt(this.id);
+		out.writeObject(this.name);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ParentTypeData data = new ParentTypeData();
+		data.setAlive(alive);
+		data.setAliveByte(aliveByte);
+		data.setId(id);
+		data.setName(name);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public ParentType getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ParentTypeAbstract copy = (ParentTypeAbstract) ParentTypeFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ParentType)copy;
+	}
+
+	protected void zSetFromParentTypeData(ParentTypeData data)
+	{
+		this.setFromParentTypeData(data);
+	}
+
+	public void setFromParentTypeData(ParentTypeData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		alive = data.isAlive();
+		aliveByte = data.getAliveByte();
+		id = data.getId();
+		name = data.getName();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ParentTypeFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromParentTypeData((ParentTypeData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public boolean isAlive()
+	{
+		if (isAliveNull()) throwNullPrimitiveException("alive");
+		return this.alive;
+	}
+
+	public void setAlive(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.alive = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public byte getAliveByte()
+	{
+		if (isAliveByteNull()) throwNullPrimitiveException("aliveByte");
+		return this.aliveByte;
+	}
+
+	public void setAliveByte(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.aliveByte = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, ParentTypeFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setAliveNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setAliveByteNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentType.id = this.id  and ParentType.name = {name}</pre>
+	* @return name equals
+	*/
+	public ParentTypeList getNameEquals(String name)
+	{
+		ParentTypeList _result = null;
+		if (_result == null)
+		{
+			{
+				{
+					_result = new ParentTypeList(zGetNameEqualsOperation(name));
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentType.id = this.id and this.alive = true</pre>
+	* @return The live test byte
+	*/
+	public ParentType getLiveTestByte()
+	{
+		ParentType _result = null;
+		if (_relationships != null)
+		{
+			_result = (ParentType)(_relationships[2]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isAliveNull() && this.isAlive()==true)
+			{
+				_portal = ParentTypeFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forliveTestByte, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ParentType) _related;
+				if (_related == null)
+				{
+					_result = ParentTypeFinder.zFindOneForRelationship(zGetLiveTestByteOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentType.id = this.id and ParentType.alive = true</pre>
+	* @return The live test
+	*/
+	public ParentType getLiveTest()
+	{
+		ParentType _result = null;
+		if (_relationships != null)
+		{
+			_result = (ParentType)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = ParentTypeFinder.zFindOneForRelationship(zGetLiveTestOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ChildType.parentId = this.id</pre>
+	* @return The children
+	*/
+	public ChildType getChildren()
+	{
+		ChildType _result = null;
+		if (_relationships != null)
+		{
+			_result = (ChildType)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = ChildTypeFinder.zFindOneForRelationship(zGetChildrenOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.alive = LifeStatus.isAlive</pre>
+	* @return tax code
+	*/
+	public LifeStatusList getTaxCode()
+	{
+		LifeStatusList _result = null;
+		if (_relationships != null)
+		{
+			_result = (LifeStatusList)(_relationships[3]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isAliveNull())
+			{
+				{
+					_result = new LifeStatusList(zGetTaxCodeOperation());
+					_result.zSetForRelationship();
+				}
+			}
+			else 
+			{
+				_result = new LifeStatusList( new None (
+					LifeStatusFinder.isAlive())
+				);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setLiveTestByte(ParentType liveTestByte)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[2] = liveTestByte;
+		if (liveTestByte == null)
+		{
+			this.setId(0);
+		}
+		else
+		{
+			this.setId(liveTestByte.getId());
+		}
+	}
+
+	public void setLiveTest(ParentType liveTest)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[1] = liveTest;
+		if (liveTest == null)
+		{
+			this.setId(0);
+		}
+		else
+		{
+			this.setId(liveTest.getId());
+		}
+	}
+
+	public void setChildren(ChildType children)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[0] = children;
+		if (children == null)
+		{
+			this.setId(0);
+		}
+		else
+		{
+			this.setId(children.getParentId());
+		}
+	}
+
+	public void setTaxCode(LifeStatusList taxCode)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[3] = taxCode;
+	}
+
+	public Operation zGetNameEqualsOperation(String name)
+	{
+		ParentTypeAbstract _data = this;
+		return ParentTypeFinder.id().eq(_data.getId()).and(ParentTypeFinder.name().eq(name));
+	}
+
+	public Operation zGetLiveTestByteOperation()
+	{
+		ParentTypeAbstract _data = this;
+		return ParentTypeFinder.id().eq(_data.getId());
+	}
+
+	public Operation zGetLiveTestOperation()
+	{
+		ParentTypeAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(ParentTypeFinder.liveTest().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetChildrenOperation()
+	{
+		ParentTypeAbstract _data = this;
+		return ChildTypeFinder.parentId().eq(_data.getId());
+	}
+
+	public Operation zGetTaxCodeOperation()
+	{
+		ParentTypeAbstract _data = this;
+		return LifeStatusFinder.isAlive().eq(_data.isAlive());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ParentTypeData parentTypeData = (ParentTypeData) newData;
+		if (isNullBits0 != parentTypeData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (alive != parentTypeData.isAlive())
+		{
+			return true;
+		}
+
+		if (aliveByte != parentTypeData.getAliveByte())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(parentTypeData.getName()) : !parentTypeData.isNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.alive = in.readBoolean();
+			this.aliveByte = in.readByte();
+			this.id = in.readInt();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParentTypeFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ParentTypeFinder.id().eq(this.getId());
+			return ParentTypeFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,169 @@
+package com.gs.fw.common.mithra.test.domain.parent;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.child.*;
+import com.gs.fw.common.mithra.test.domain.child.ChildType;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeData;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeList;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatus;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusData;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusFinder;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ParentTypeListAbstract extends DelegatingList<ParentType> implements MithraList<ParentType>
+{
+	public ParentTypeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ParentTypeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ParentTypeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ParentTypeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ParentType[] elements()
+	{
+		ParentType[] result = new ParentType[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ParentTypeList intersection(ParentTypeList another)
+	{
+		return (ParentTypeList)super.intersection(another);
+	}
+
+	public ParentType getParentTypeAt(int index)
+	{
+		return (ParentType)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentType.id = this.id  and ParentType.name = {name}</pre>
+	* @return name equals
+	*/
+	public ParentTypeList getNameEquals(String name)
+	{
+		return (ParentTypeList) this.zGetDelegated().resolveRelationship(this, ParentTypeFinder.nameEquals(name));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentType.id = this.id and this.alive = true</pre>
+	* @return The live test byte
+	*/
+	public ParentTypeList getLiveTestBytes()
+	{
+		return (ParentTypeList) this.zGetDelegated().resolveRelationship(this, ParentTypeFinder.liveTestByte());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParentType.id = this.id and ParentType.alive = true</pre>
+	* @return The live test
+	*/
+	public ParentTypeList getLiveTests()
+	{
+		return (ParentTypeList) this.zGetDelegated().resolveRelationship(this, ParentTypeFinder.liveTest());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ChildType.parentId = this.id</pre>
+	* @return The children
+	*/
+	public ChildTypeList getChildrens()
+	{
+		return (ChildTypeList) this.zGetDelegated().resolveRelationship(this, ParentTypeFinder.children());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.alive = LifeStatus.isAlive</pre>
+	* @return tax code
+	*/
+	public LifeStatusList getTaxCode()
+	{
+		return (LifeStatusList) this.zGetDelegated().resolveRelationship(this, ParentTypeFinder.taxCode());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParentTypeFinder.getMithraObjectPortal();
+	}
+
+	public ParentTypeList getNonPersistentCopy()
+	{
+		ParentTypeList result = new ParentTypeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ParentTypeList asAdhoc()
+	{
+		return (ParentTypeList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ParentType> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
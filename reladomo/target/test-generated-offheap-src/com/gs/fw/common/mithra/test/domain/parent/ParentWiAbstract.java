@@ -0,0 +1,31 @@
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain.parent;
+import com.gs.fw.common.mithra.test.domain.child.Child;
+import com.gs.fw.common.mithra.test.domain.child.ChildAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildData;
+import com.gs.fw.common.mithra.test.domain.child.ChildFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildList;
+import com.gs.fw.common.mithra.test.domain.child.ChildWi;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiData;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiImpl;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiImplAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiList;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiListImpl;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ParentWiAbstract
+{
+	String getChildName();
+	void setChildName(String newValue);
+	boolean isChildNameNull();
+	String getName();
+	void setName(String newValue);
+	boolean isNameNull();
+	public ChildList getChildrenWithoutInterfaces();
+	public ChildWiList getChildrenWi();
+}
@@ -0,0 +1,365 @@
+package com.gs.fw.common.mithra.test.domain.parent;
+import com.gs.fw.common.mithra.test.domain.child.Child;
+import com.gs.fw.common.mithra.test.domain.child.ChildAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildData;
+import com.gs.fw.common.mithra.test.domain.child.ChildFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildList;
+import com.gs.fw.common.mithra.test.domain.child.ChildWi;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiData;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiImpl;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiImplAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiList;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiListImpl;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ParentWiImplAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String childName;
+	private String name;
+	public boolean isChildNameNull()
+	{
+		return this.getChildName() == null;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.childName);
+		out.writeObject(this.name);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ParentWiData data = new ParentWiData();
+		data.setChildName(childName);
+		data.setName(name);
+		return data;
+	}
+
+	public ParentWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ParentWiImplAbstract copy = (ParentWiImplAbstract) ParentWiFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ParentWiImpl)copy;
+	}
+
+	protected void zSetFromParentWiData(ParentWiData data)
+	{
+		this.setFromParentWiData(data);
+	}
+
+	public void setFromParentWiData(ParentWiData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		childName = data.getChildName();
+		name = data.getName();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ParentWiFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromParentWiData((ParentWiData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getChildName()
+	{
+		return this.childName;
+	}
+
+	public void setChildName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.childName = StringPool.getInstance().getOrAddToCache(value, ParentWiFinder.isFullCache());
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, ParentWiFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.childName = Child.name</pre>
+	* @see Child#getParentWithInterface() reverse relationship Child.getParentWithInterface()
+	* @return children without interfaces
+	*/
+	public ChildList getChildrenWithoutInterfaces()
+	{
+		ChildList _result = null;
+		if (_relationships != null)
+		{
+			_result = (ChildList)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isChildNameNull())
+			{
+				{
+					_result = new ChildList(zGetChildrenWithoutInterfacesOperation());
+					_result.zSetForRelationship();
+				}
+			}
+			else 
+			{
+				_result = new ChildList( new None (
+					ChildFinder.name())
+				);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.childName = ChildWi.name</pre>
+	* @see ChildWi#getParent() reverse relationship ChildWi.getParent()
+	* @return children wi
+	*/
+	public ChildWiList getChildrenWi()
+	{
+		ChildWiListImpl _result = null;
+		if (_relationships != null)
+		{
+			_result = (ChildWiListImpl)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isChildNameNull())
+			{
+				{
+					_result = new ChildWiListImpl(zGetChildrenWiOperation());
+					_result.zSetForRelationship();
+				}
+			}
+			else 
+			{
+				_result = new ChildWiListImpl( new None (
+					ChildWiFinder.name())
+				);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setChildrenWithoutInterfaces(ChildList childrenWithoutInterfaces)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = childrenWithoutInterfaces;
+	}
+
+	public void setChildrenWi(ChildWiList childrenWi)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = childrenWi;
+	}
+
+	public Operation zGetChildrenWithoutInterfacesOperation()
+	{
+		ParentWiImplAbstract _data = this;
+		return ChildFinder.name().eq(_data.getChildName());
+	}
+
+	public Operation zGetChildrenWiOperation()
+	{
+		ParentWiImplAbstract _data = this;
+		return ChildWiFinder.name().eq(_data.getChildName());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ParentWiData parentWiData = (ParentWiData) newData;
+		if (!isChildNameNull() ? !getChildName().equals(parentWiData.getChildName()) : !parentWiData.isChildNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "name: "+"'"+getName()+"'"+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeObject(this.name);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.childName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParentWiFinder.isFullCache());
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParentWiFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParentWiFinder.isFullCache());
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ParentWiFinder.name().eq(this.getName());
+			return ParentWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,142 @@
+package com.gs.fw.common.mithra.test.domain.parent;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.child.Child;
+import com.gs.fw.common.mithra.test.domain.child.ChildAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildData;
+import com.gs.fw.common.mithra.test.domain.child.ChildFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildList;
+import com.gs.fw.common.mithra.test.domain.child.ChildWi;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiData;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiImpl;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiImplAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiList;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiListImpl;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ParentWiListImplAbstract extends DelegatingList<ParentWi> implements MithraList<ParentWi>
+{
+	public ParentWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ParentWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ParentWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ParentWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ParentWi[] elements()
+	{
+		ParentWi[] result = new ParentWi[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ParentWiListImpl intersection(ParentWiListImpl another)
+	{
+		return (ParentWiListImpl)super.intersection(another);
+	}
+
+	public ParentWiImpl getParentWiAt(int index)
+	{
+		return (ParentWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.childName = Child.name</pre>
+	* @see Child#getParentWithInterface() reverse relationship Child.getParentWithInterface()
+	* @return children without interfaces
+	*/
+	public ChildList getChildrenWithoutInterfaces()
+	{
+		return (ChildList) this.zGetDelegated().resolveRelationship(this, ParentWiFinder.childrenWithoutInterfaces());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.childName = ChildWi.name</pre>
+	* @see ChildWi#getParent() reverse relationship ChildWi.getParent()
+	* @return children wi
+	*/
+	public ChildWiList getChildrenWi()
+	{
+		return (ChildWiList) this.zGetDelegated().resolveRelationship(this, ParentWiFinder.childrenWi());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParentWiFinder.getMithraObjectPortal();
+	}
+
+	public ParentWiListImpl getNonPersistentCopy()
+	{
+		ParentWiListImpl result = new ParentWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ParentWiListImpl asAdhoc()
+	{
+		return (ParentWiListImpl) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<ParentWi> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,863 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class PureType2DatedReadOnlyTypesAAbstract extends com.gs.fw.common.mithra.test.domain.pure.PureType2DatedReadOnlyTypes
+implements MithraDatedObject, Serializable
+{
+	protected PureType2DatedReadOnlyTypesAData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp businessDate;
+	protected Timestamp processingDate;
+	public PureType2DatedReadOnlyTypesAAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, PureType2DatedReadOnlyTypesAFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, PureType2DatedReadOnlyTypesAFinder.isFullCache());
+	}
+
+	public PureType2DatedReadOnlyTypesAAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromPureType2DatedReadOnlyTypesAData( PureType2DatedReadOnlyTypesAData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromPureType2DatedReadOnlyTypesAData( PureType2DatedReadOnlyTypesAData data )
+	{
+		this.setFromPureType2DatedReadOnlyTypesAData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromPureType2DatedReadOnlyTypesAData( (PureType2DatedReadOnlyTypesAData) data );
+	}
+
+	public PureType2DatedReadOnlyTypesA getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		PureType2DatedReadOnlyTypesAAbstract copy = (PureType2DatedReadOnlyTypesAAbstract)
+		PureType2DatedReadOnlyTypesAFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (PureType2DatedReadOnlyTypesA)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		PureType2DatedReadOnlyTypesAData data = (PureType2DatedReadOnlyTypesAData) PureType2DatedReadOnlyTypesAFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("PureType2DatedReadOnlyTypesA has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return PureType2DatedReadOnlyTypesAFinder.getMithraObjectPortal().getCache();
+	}
+
+	public PureType2DatedReadOnlyTypesAData zGetCurrentDataWithCheck()
+	{
+		PureType2DatedReadOnlyTypesAData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private PureType2DatedReadOnlyTypesAData zRefreshData(PureType2DatedReadOnlyTypesAData current)
+	{
+		PureType2DatedReadOnlyTypesAData newData = (PureType2DatedReadOnlyTypesAData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("PureType2DatedReadOnlyTypesA has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(PureType2DatedReadOnlyTypesAData current)
+	{
+		boolean refresh = !PureType2DatedReadOnlyTypesAFinder.businessDate().dataMatches(current, businessDate);
+		if (!refresh)
+		{
+			refresh = !PureType2DatedReadOnlyTypesAFinder.processingDate().dataMatches(current, processingDate);
+		}
+
+		return refresh;
+	}
+
+	private PureType2DatedReadOnlyTypesAData zGetOrInitializeInMemoryData()
+	{
+		PureType2DatedReadOnlyTypesAData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new PureType2DatedReadOnlyTypesAData.PureType2DatedReadOnlyTypesADataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		PureType2DatedReadOnlyTypesAData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			PureType2DatedReadOnlyTypesAData newData = (PureType2DatedReadOnlyTypesAData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBooleanAttributeNull();
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		if (data.isBooleanAttributeNull())
+		MithraNullPrimitiveException.throwNew("booleanAttribute", data);
+		return data.isBooleanAttribute();
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBooleanAttribute(newValue);
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateFromNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateFrom(newValue);
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateToNull();
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateTo(newValue);
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isByteAttributeNull();
+	}
+
+	public byte getByteAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		if (data.isByteAttributeNull())
+		MithraNullPrimitiveException.throwNew("byteAttribute", data);
+		return data.getByteAttribute();
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setByteAttribute(newValue);
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isCharAttributeNull();
+	}
+
+	public char getCharAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		if (data.isCharAttributeNull())
+		MithraNullPrimitiveException.throwNew("charAttribute", data);
+		return data.getCharAttribute();
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCharAttribute(newValue);
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDateAttributeNull();
+	}
+
+	public Date getDateAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		return data.getDateAttribute();
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDateAttribute(newValue);
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDoubleAttributeNull();
+	}
+
+	public double getDoubleAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		if (data.isDoubleAttributeNull())
+		MithraNullPrimitiveException.throwNew("doubleAttribute", data);
+		return data.getDoubleAttribute();
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDoubleAttribute(newValue);
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isFloatAttributeNull();
+	}
+
+	public float getFloatAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		if (data.isFloatAttributeNull())
+		MithraNullPrimitiveException.throwNew("floatAttribute", data);
+		return data.getFloatAttribute();
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setFloatAttribute(newValue);
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isIntAttributeNull();
+	}
+
+	public int getIntAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		if (data.isIntAttributeNull())
+		MithraNullPrimitiveException.throwNew("intAttribute", data);
+		return data.getIntAttribute();
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setIntAttribute(newValue);
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isLongAttributeNull();
+	}
+
+	public long getLongAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		if (data.isLongAttributeNull())
+		MithraNullPrimitiveException.throwNew("longAttribute", data);
+		return data.getLongAttribute();
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setLongAttribute(newValue);
+	}
+
+	public boolean isPkBooleanAttributeNull()
+	{
+		return this.currentData.isPkBooleanAttributeNull();
+	}
+
+	public boolean isPkBooleanAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.isPkBooleanAttribute();
+	}
+
+	public void setPkBooleanAttribute(boolean newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkBooleanAttribute(newValue);
+	}
+
+	public boolean isPkByteAttributeNull()
+	{
+		return this.currentData.isPkByteAttributeNull();
+	}
+
+	public byte getPkByteAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkByteAttribute();
+	}
+
+	public void setPkByteAttribute(byte newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkByteAttribute(newValue);
+	}
+
+	public boolean isPkCharAttributeNull()
+	{
+		return this.currentData.isPkCharAttributeNull();
+	}
+
+	public char getPkCharAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkCharAttribute();
+	}
+
+	public void setPkCharAttribute(char newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkCharAttribute(newValue);
+	}
+
+	public boolean isPkDateAttributeNull()
+	{
+		return this.currentData.isPkDateAttributeNull();
+	}
+
+	public Date getPkDateAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkDateAttribute();
+	}
+
+	public void setPkDateAttribute(Date newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkDateAttribute(newValue);
+	}
+
+	public boolean isPkDoubleAttributeNull()
+	{
+		return this.currentData.isPkDoubleAttributeNull();
+	}
+
+	public double getPkDoubleAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkDoubleAttribute();
+	}
+
+	public void setPkDoubleAttribute(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkDoubleAttribute(newValue);
+	}
+
+	public boolean isPkFloatAttributeNull()
+	{
+		return this.currentData.isPkFloatAttributeNull();
+	}
+
+	public float getPkFloatAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkFloatAttribute();
+	}
+
+	public void setPkFloatAttribute(float newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkFloatAttribute(newValue);
+	}
+
+	public boolean isPkIntAttributeNull()
+	{
+		return this.currentData.isPkIntAttributeNull();
+	}
+
+	public int getPkIntAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkIntAttribute();
+	}
+
+	public void setPkIntAttribute(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkIntAttribute(newValue);
+	}
+
+	public boolean isPkLongAttributeNull()
+	{
+		return this.currentData.isPkLongAttributeNull();
+	}
+
+	public long getPkLongAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkLongAttribute();
+	}
+
+	public void setPkLongAttribute(long newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkLongAttribute(newValue);
+	}
+
+	public boolean isPkShortAttributeNull()
+	{
+		return this.currentData.isPkShortAttributeNull();
+	}
+
+	public short getPkShortAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkShortAttribute();
+	}
+
+	public void setPkShortAttribute(short newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkShortAttribute(newValue);
+	}
+
+	public boolean isPkStringAttributeNull()
+	{
+		return this.currentData.isPkStringAttributeNull();
+	}
+
+	public String getPkStringAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkStringAttribute();
+	}
+
+	public void setPkStringAttribute(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkStringAttribute(newValue);
+	}
+
+	public boolean isPkTimestampAttributeNull()
+	{
+		return this.currentData.isPkTimestampAttributeNull();
+	}
+
+	public Timestamp getPkTimestampAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.currentData;
+		return data.getPkTimestampAttribute();
+	}
+
+	public void setPkTimestampAttribute(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPkTimestampAttribute(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isShortAttributeNull();
+	}
+
+	public short getShortAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		if (data.isShortAttributeNull())
+		MithraNullPrimitiveException.throwNew("shortAttribute", data);
+		return data.getShortAttribute();
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setShortAttribute(newValue);
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isStringAttributeNull();
+	}
+
+	public String getStringAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		return data.getStringAttribute();
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setStringAttribute(newValue);
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTimestampAttributeNull();
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		PureType2DatedReadOnlyTypesAData data = this.zGetCurrentDataWithCheck();
+		return data.getTimestampAttribute();
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTimestampAttribute(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBooleanAttributeNull();
+	}
+
+	public void setByteAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setByteAttributeNull();
+	}
+
+	public void setCharAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCharAttributeNull();
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDoubleAttributeNull();
+	}
+
+	public void setFloatAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setFloatAttributeNull();
+	}
+
+	public void setIntAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setIntAttributeNull();
+	}
+
+	public void setLongAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setLongAttributeNull();
+	}
+
+	public void setShortAttributeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setShortAttributeNull();
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		PureType2DatedReadOnlyTypesAData data = ((PureType2DatedReadOnlyTypesAData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		PureType2DatedReadOnlyTypesAData data = ((PureType2DatedReadOnlyTypesAData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new PureType2DatedReadOnlyTypesAData.PureType2DatedReadOnlyTypesADataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesAFinder.isFullCache());
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesAFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = PureType2DatedReadOnlyTypesAFinder.businessDate().eq(businessDate);
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.processingDate().eq(processingDate));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkBooleanAttribute().eq(currentData.isPkBooleanAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkByteAttribute().eq(currentData.getPkByteAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkCharAttribute().eq(currentData.getPkCharAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkDateAttribute().eq(currentData.getPkDateAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkDoubleAttribute().eq(currentData.getPkDoubleAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkFloatAttribute().eq(currentData.getPkFloatAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkIntAttribute().eq(currentData.getPkIntAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkLongAttribute().eq(currentData.getPkLongAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkShortAttribute().eq(currentData.getPkShortAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkStringAttribute().eq(currentData.getPkStringAttribute()));
+			op = op.and(PureType2DatedReadOnlyTypesAFinder.pkTimestampAttribute().eq(currentData.getPkTimestampAttribute()));
+			return PureType2DatedReadOnlyTypesAFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		PureType2DatedReadOnlyTypesAData localData = (PureType2DatedReadOnlyTypesAData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PureType2DatedReadOnlyTypesAFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,108 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PureType2DatedReadOnlyTypesAListAbstract extends DelegatingList<PureType2DatedReadOnlyTypesA> implements MithraList<PureType2DatedReadOnlyTypesA>
+{
+	public PureType2DatedReadOnlyTypesAListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PureType2DatedReadOnlyTypesAListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PureType2DatedReadOnlyTypesAListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PureType2DatedReadOnlyTypesAListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public PureType2DatedReadOnlyTypesA[] elements()
+	{
+		PureType2DatedReadOnlyTypesA[] result = new PureType2DatedReadOnlyTypesA[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PureType2DatedReadOnlyTypesAList intersection(PureType2DatedReadOnlyTypesAList another)
+	{
+		return (PureType2DatedReadOnlyTypesAList)super.intersection(another);
+	}
+
+	public PureType2DatedReadOnlyTypesA getPureType2DatedReadOnlyTypesAAt(int index)
+	{
+		return (PureType2DatedReadOnlyTypesA)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureType2DatedReadOnlyTypesAFinder.getMithraObjectPortal();
+	}
+
+	public PureType2DatedReadOnlyTypesAList getNonPersistentCopy()
+	{
+		PureType2DatedReadOnlyTypesAList result = new PureType2DatedReadOnlyTypesAList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PureType2DatedReadOnlyTypesAList asAdhoc()
+	{
+		return (PureType2DatedReadOnlyTypesAList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<PureType2DatedReadOnlyTypesA> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,153 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.BiTemporalTransactionalDataContainer;
+import com.gs.fw.common.mithra.behavior.TemporalContainer;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.portal.MithraAbstractPureDatedObjectFactory;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class PureType2DatedReadOnlyTypesAObjectFactoryAbstract extends MithraAbstractPureDatedObjectFactory implements MithraDatedObjectFactory
+{
+	protected LoadOperationProvider loadOperationProvider = new DefaultLoadOperationProvider();
+	public List< Operation > getOperationsForFullCacheLoad()
+	{
+		return this.loadOperationProvider.getOperationsForFullCacheLoad(this.getFinder());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureType2DatedReadOnlyTypesAFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return PureType2DatedReadOnlyTypesAFinder.getFinderInstance();
+	}
+
+	public static PureType2DatedReadOnlyTypesAData allocateOnHeapData()
+	{
+		return new PureType2DatedReadOnlyTypesAData.PureType2DatedReadOnlyTypesADataOnHeap();
+	}
+
+	public static PureType2DatedReadOnlyTypesAData allocateOffHeapData()
+	{
+		return new PureType2DatedReadOnlyTypesAData.PureType2DatedReadOnlyTypesADataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new PureType2DatedReadOnlyTypesAData.PureType2DatedReadOnlyTypesADataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesAFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesAFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		PureType2DatedReadOnlyTypesAData data = new PureType2DatedReadOnlyTypesAData.PureType2DatedReadOnlyTypesADataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesAFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesAFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureType2DatedReadOnlyTypesAData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedReadOnlyTypesA", PureType2DatedReadOnlyTypesAFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("PureType2DatedReadOnlyTypesA"));
+			PureType2DatedReadOnlyTypesAData.PureType2DatedReadOnlyTypesADataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapFullDatedCache(PureType2DatedReadOnlyTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedReadOnlyTypesAFinder.getAsOfAttributes(), this, PureType2DatedReadOnlyTypesAFinder.getImmutableAttributes(), dataStorage);
+		}
+		else
+		{
+			result = new FullDatedCache(PureType2DatedReadOnlyTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedReadOnlyTypesAFinder.getAsOfAttributes(), this, PureType2DatedReadOnlyTypesAFinder.getImmutableAttributes());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureType2DatedReadOnlyTypesAData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedReadOnlyTypesA", PureType2DatedReadOnlyTypesAFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			PureType2DatedReadOnlyTypesAData.PureType2DatedReadOnlyTypesADataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(PureType2DatedReadOnlyTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedReadOnlyTypesAFinder.getAsOfAttributes(), this, PureType2DatedReadOnlyTypesAFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(PureType2DatedReadOnlyTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedReadOnlyTypesAFinder.getAsOfAttributes(), this, PureType2DatedReadOnlyTypesAFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			PureType2DatedReadOnlyTypesAFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			PureType2DatedReadOnlyTypesAFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		PureType2DatedReadOnlyTypesA newObject = new PureType2DatedReadOnlyTypesA(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromPureType2DatedReadOnlyTypesAData((PureType2DatedReadOnlyTypesAData) data);
+		return newObject;
+	}
+}
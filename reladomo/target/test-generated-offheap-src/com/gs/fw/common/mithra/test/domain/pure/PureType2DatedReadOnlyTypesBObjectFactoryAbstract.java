@@ -0,0 +1,153 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.BiTemporalTransactionalDataContainer;
+import com.gs.fw.common.mithra.behavior.TemporalContainer;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.portal.MithraAbstractPureDatedObjectFactory;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class PureType2DatedReadOnlyTypesBObjectFactoryAbstract extends MithraAbstractPureDatedObjectFactory implements MithraDatedObjectFactory
+{
+	protected LoadOperationProvider loadOperationProvider = new DefaultLoadOperationProvider();
+	public List< Operation > getOperationsForFullCacheLoad()
+	{
+		return this.loadOperationProvider.getOperationsForFullCacheLoad(this.getFinder());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureType2DatedReadOnlyTypesBFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return PureType2DatedReadOnlyTypesBFinder.getFinderInstance();
+	}
+
+	public static PureType2DatedReadOnlyTypesBData allocateOnHeapData()
+	{
+		return new PureType2DatedReadOnlyTypesBData.PureType2DatedReadOnlyTypesBDataOnHeap();
+	}
+
+	public static PureType2DatedReadOnlyTypesBData allocateOffHeapData()
+	{
+		return new PureType2DatedReadOnlyTypesBData.PureType2DatedReadOnlyTypesBDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new PureType2DatedReadOnlyTypesBData.PureType2DatedReadOnlyTypesBDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesBFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesBFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		PureType2DatedReadOnlyTypesBData data = new PureType2DatedReadOnlyTypesBData.PureType2DatedReadOnlyTypesBDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesBFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedReadOnlyTypesBFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureType2DatedReadOnlyTypesBData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedReadOnlyTypesB", PureType2DatedReadOnlyTypesBFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("PureType2DatedReadOnlyTypesB"));
+			PureType2DatedReadOnlyTypesBData.PureType2DatedReadOnlyTypesBDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapFullDatedCache(PureType2DatedReadOnlyTypesBFinder.getPrimaryKeyAttributes(), PureType2DatedReadOnlyTypesBFinder.getAsOfAttributes(), this, PureType2DatedReadOnlyTypesBFinder.getImmutableAttributes(), dataStorage);
+		}
+		else
+		{
+			result = new FullDatedCache(PureType2DatedReadOnlyTypesBFinder.getPrimaryKeyAttributes(), PureType2DatedReadOnlyTypesBFinder.getAsOfAttributes(), this, PureType2DatedReadOnlyTypesBFinder.getImmutableAttributes());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureType2DatedReadOnlyTypesBData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedReadOnlyTypesB", PureType2DatedReadOnlyTypesBFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			PureType2DatedReadOnlyTypesBData.PureType2DatedReadOnlyTypesBDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(PureType2DatedReadOnlyTypesBFinder.getPrimaryKeyAttributes(), PureType2DatedReadOnlyTypesBFinder.getAsOfAttributes(), this, PureType2DatedReadOnlyTypesBFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(PureType2DatedReadOnlyTypesBFinder.getPrimaryKeyAttributes(), PureType2DatedReadOnlyTypesBFinder.getAsOfAttributes(), this, PureType2DatedReadOnlyTypesBFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			PureType2DatedReadOnlyTypesBFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			PureType2DatedReadOnlyTypesBFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		PureType2DatedReadOnlyTypesB newObject = new PureType2DatedReadOnlyTypesB(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromPureType2DatedReadOnlyTypesBData((PureType2DatedReadOnlyTypesBData) data);
+		return newObject;
+	}
+}
@@ -0,0 +1,1310 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class PureType2DatedTxnTypesAAbstract extends com.gs.fw.common.mithra.test.domain.pure.PureType2DatedTxnTypes implements MithraDatedTransactionalObject, Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		PureType2DatedTxnTypesAFinder.businessDate()
+	,
+		PureType2DatedTxnTypesAFinder.processingDate()
+	, PureType2DatedTxnTypesAFinder.zGetDoubleAttributes(),PureType2DatedTxnTypesAFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(PureType2DatedTxnTypesA.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public PureType2DatedTxnTypesAAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, PureType2DatedTxnTypesAFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, PureType2DatedTxnTypesAFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public PureType2DatedTxnTypesAAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public PureType2DatedTxnTypesAData zSynchronizedGetData()
+	{
+		return (PureType2DatedTxnTypesAData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !PureType2DatedTxnTypesAFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !PureType2DatedTxnTypesAFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public PureType2DatedTxnTypesA zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		PureType2DatedTxnTypesA original = (PureType2DatedTxnTypesA) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public PureType2DatedTxnTypesA copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (PureType2DatedTxnTypesA) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public PureType2DatedTxnTypesA copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (PureType2DatedTxnTypesA) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			PureType2DatedTxnTypesAFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public PureType2DatedTxnTypesA getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		PureType2DatedTxnTypesAAbstract result = (PureType2DatedTxnTypesAAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (PureType2DatedTxnTypesA ) result;
+	}
+
+	public PureType2DatedTxnTypesA zFindOriginal()
+	{
+		PureType2DatedTxnTypesAData data = (PureType2DatedTxnTypesAData) this.currentData;
+		Operation op;
+		op = PureType2DatedTxnTypesAFinder.pkBooleanAttribute().eq(data.isPkBooleanAttribute());
+		op = op.and(PureType2DatedTxnTypesAFinder.pkByteAttribute().eq(data.getPkByteAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.pkCharAttribute().eq(data.getPkCharAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.pkDateAttribute().eq(data.getPkDateAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.pkDoubleAttribute().eq(data.getPkDoubleAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.pkFloatAttribute().eq(data.getPkFloatAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.pkIntAttribute().eq(data.getPkIntAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.pkLongAttribute().eq(data.getPkLongAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.pkShortAttribute().eq(data.getPkShortAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.pkStringAttribute().eq(data.getPkStringAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.pkTimestampAttribute().eq(data.getPkTimestampAttribute()));
+		op = op.and(PureType2DatedTxnTypesAFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(PureType2DatedTxnTypesAFinder.processingDate().eq(this.getProcessingDate()));
+		return PureType2DatedTxnTypesAFinder.findOne(op);
+	}
+
+	public PureType2DatedTxnTypesA getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		PureType2DatedTxnTypesAAbstract result = (PureType2DatedTxnTypesAAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (PureType2DatedTxnTypesA ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public PureType2DatedTxnTypesA copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (PureType2DatedTxnTypesA) behavior.updateOriginalOrInsert(this);
+	}
+
+	public PureType2DatedTxnTypesA copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (PureType2DatedTxnTypesA) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			PureType2DatedTxnTypesAData data = (PureType2DatedTxnTypesAData) this.currentData;
+			Operation op = PureType2DatedTxnTypesAFinder.businessDate().eq(this.businessDate);
+			op = op.and(PureType2DatedTxnTypesAFinder.processingDate().eq(this.processingDate));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkBooleanAttribute().eq(data.isPkBooleanAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkByteAttribute().eq(data.getPkByteAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkCharAttribute().eq(data.getPkCharAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkDateAttribute().eq(data.getPkDateAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkDoubleAttribute().eq(data.getPkDoubleAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkFloatAttribute().eq(data.getPkFloatAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkIntAttribute().eq(data.getPkIntAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkLongAttribute().eq(data.getPkLongAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkShortAttribute().eq(data.getPkShortAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkStringAttribute().eq(data.getPkStringAttribute()));
+			op = op.and(PureType2DatedTxnTypesAFinder.pkTimestampAttribute().eq(data.getPkTimestampAttribute()));
+			return PureType2DatedTxnTypesAFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		PureType2DatedTxnTypesAData data = (PureType2DatedTxnTypesAData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && PureType2DatedTxnTypesAFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		PureType2DatedTxnTypesAData data = (PureType2DatedTxnTypesAData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return this.zSynchronizedGetData().isBooleanAttributeNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return this.zSynchronizedGetData().isByteAttributeNull();
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return this.zSynchronizedGetData().isCharAttributeNull();
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return this.zSynchronizedGetData().isDateAttributeNull();
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return this.zSynchronizedGetData().isDoubleAttributeNull();
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return this.zSynchronizedGetData().isFloatAttributeNull();
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return this.zSynchronizedGetData().isIntAttributeNull();
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return this.zSynchronizedGetData().isLongAttributeNull();
+	}
+
+	public boolean isPkBooleanAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkBooleanAttributeNull();
+	}
+
+	public boolean isPkByteAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkByteAttributeNull();
+	}
+
+	public boolean isPkCharAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkCharAttributeNull();
+	}
+
+	public boolean isPkDateAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkDateAttributeNull();
+	}
+
+	public boolean isPkDoubleAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkDoubleAttributeNull();
+	}
+
+	public boolean isPkFloatAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkFloatAttributeNull();
+	}
+
+	public boolean isPkIntAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkIntAttributeNull();
+	}
+
+	public boolean isPkLongAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkLongAttributeNull();
+	}
+
+	public boolean isPkShortAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkShortAttributeNull();
+	}
+
+	public boolean isPkStringAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkStringAttributeNull();
+	}
+
+	public boolean isPkTimestampAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkTimestampAttributeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return this.zSynchronizedGetData().isShortAttributeNull();
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.zSynchronizedGetData().isStringAttributeNull();
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.zSynchronizedGetData().isTimestampAttributeNull();
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		PureType2DatedTxnTypesAData data = this.zSynchronizedGetData();
+		if (data.isBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("booleanAttribute", data);
+		return data.isBooleanAttribute();
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(PureType2DatedTxnTypesAFinder.booleanAttribute(), newValue, false ,true);
+	}
+
+	public void setBooleanAttributeUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(PureType2DatedTxnTypesAFinder.booleanAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureType2DatedTxnTypesAFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureType2DatedTxnTypesAFinder.businessDateTo(), newValue, false );
+	}
+
+	public byte getByteAttribute()
+	{
+		PureType2DatedTxnTypesAData data = this.zSynchronizedGetData();
+		if (data.isByteAttributeNull()) MithraNullPrimitiveException.throwNew("byteAttribute", data);
+		return data.getByteAttribute();
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(PureType2DatedTxnTypesAFinder.byteAttribute(), newValue, false ,true);
+	}
+
+	public void setByteAttributeUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(PureType2DatedTxnTypesAFinder.byteAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public char getCharAttribute()
+	{
+		PureType2DatedTxnTypesAData data = this.zSynchronizedGetData();
+		if (data.isCharAttributeNull()) MithraNullPrimitiveException.throwNew("charAttribute", data);
+		return data.getCharAttribute();
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(PureType2DatedTxnTypesAFinder.charAttribute(), newValue, false ,true);
+	}
+
+	public void setCharAttributeUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(PureType2DatedTxnTypesAFinder.charAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Date getDateAttribute()
+	{
+		return this.zSynchronizedGetData().getDateAttribute();
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(PureType2DatedTxnTypesAFinder.dateAttribute(), newValue, false );
+	}
+
+	public void setDateAttributeUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(PureType2DatedTxnTypesAFinder.dateAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	public double getDoubleAttribute()
+	{
+		PureType2DatedTxnTypesAData data = this.zSynchronizedGetData();
+		if (data.isDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("doubleAttribute", data);
+		return data.getDoubleAttribute();
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(PureType2DatedTxnTypesAFinder.doubleAttribute(), newValue, false ,true);
+	}
+
+	public void setDoubleAttributeUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(PureType2DatedTxnTypesAFinder.doubleAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementDoubleAttribute(double increment)
+	{
+		zIncrement(increment, PureType2DatedTxnTypesAFinder.doubleAttribute(), false);
+	}
+
+	public void incrementDoubleAttributeUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, PureType2DatedTxnTypesAFinder.doubleAttribute(), false);
+	}
+
+	public float getFloatAttribute()
+	{
+		PureType2DatedTxnTypesAData data = this.zSynchronizedGetData();
+		if (data.isFloatAttributeNull()) MithraNullPrimitiveException.throwNew("floatAttribute", data);
+		return data.getFloatAttribute();
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(PureType2DatedTxnTypesAFinder.floatAttribute(), newValue, false ,true);
+	}
+
+	public void setFloatAttributeUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(PureType2DatedTxnTypesAFinder.floatAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public int getIntAttribute()
+	{
+		PureType2DatedTxnTypesAData data = this.zSynchronizedGetData();
+		if (data.isIntAttributeNull()) MithraNullPrimitiveException.throwNew("intAttribute", data);
+		return data.getIntAttribute();
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(PureType2DatedTxnTypesAFinder.intAttribute(), newValue, false ,true);
+	}
+
+	public void setIntAttributeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(PureType2DatedTxnTypesAFinder.intAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public long getLongAttribute()
+	{
+		PureType2DatedTxnTypesAData data = this.zSynchronizedGetData();
+		if (data.isLongAttributeNull()) MithraNullPrimitiveException.throwNew("longAttribute", data);
+		return data.getLongAttribute();
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(PureType2DatedTxnTypesAFinder.longAttribute(), newValue, false ,true);
+	}
+
+	public void setLongAttributeUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(PureType2DatedTxnTypesAFinder.longAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public boolean isPkBooleanAttribute()
+	{
+		return this.zSynchronizedGetData().isPkBooleanAttribute();
+	}
+
+	public void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(PureType2DatedTxnTypesAFinder.pkBooleanAttribute(), newValue, true ,false);
+	}
+
+	public void setPkBooleanAttributeUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(PureType2DatedTxnTypesAFinder.pkBooleanAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	public byte getPkByteAttribute()
+	{
+		return this.zSynchronizedGetData().getPkByteAttribute();
+	}
+
+	public void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(PureType2DatedTxnTypesAFinder.pkByteAttribute(), newValue, true ,false);
+	}
+
+	public void setPkByteAttributeUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(PureType2DatedTxnTypesAFinder.pkByteAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	public char getPkCharAttribute()
+	{
+		return this.zSynchronizedGetData().getPkCharAttribute();
+	}
+
+	public void setPkCharAttribute(char newValue)
+	{
+		zSetChar(PureType2DatedTxnTypesAFinder.pkCharAttribute(), newValue, true ,false);
+	}
+
+	public void setPkCharAttributeUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(PureType2DatedTxnTypesAFinder.pkCharAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Date getPkDateAttribute()
+	{
+		return this.zSynchronizedGetData().getPkDateAttribute();
+	}
+
+	public void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(PureType2DatedTxnTypesAFinder.pkDateAttribute(), newValue, true );
+	}
+
+	public void setPkDateAttributeUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(PureType2DatedTxnTypesAFinder.pkDateAttribute(), newValue, true , exclusiveUntil);
+	}
+
+	public double getPkDoubleAttribute()
+	{
+		return this.zSynchronizedGetData().getPkDoubleAttribute();
+	}
+
+	public void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(PureType2DatedTxnTypesAFinder.pkDoubleAttribute(), newValue, true ,false);
+	}
+
+	public void setPkDoubleAttributeUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(PureType2DatedTxnTypesAFinder.pkDoubleAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	public void incrementPkDoubleAttribute(double increment)
+	{
+		zIncrement(increment, PureType2DatedTxnTypesAFinder.pkDoubleAttribute(), true);
+	}
+
+	public void incrementPkDoubleAttributeUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, PureType2DatedTxnTypesAFinder.pkDoubleAttribute(), true);
+	}
+
+	public float getPkFloatAttribute()
+	{
+		return this.zSynchronizedGetData().getPkFloatAttribute();
+	}
+
+	public void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(PureType2DatedTxnTypesAFinder.pkFloatAttribute(), newValue, true ,false);
+	}
+
+	public void setPkFloatAttributeUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(PureType2DatedTxnTypesAFinder.pkFloatAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getPkIntAttribute()
+	{
+		return this.zSynchronizedGetData().getPkIntAttribute();
+	}
+
+	public void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(PureType2DatedTxnTypesAFinder.pkIntAttribute(), newValue, true ,false);
+	}
+
+	public void setPkIntAttributeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(PureType2DatedTxnTypesAFinder.pkIntAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	public long getPkLongAttribute()
+	{
+		return this.zSynchronizedGetData().getPkLongAttribute();
+	}
+
+	public void setPkLongAttribute(long newValue)
+	{
+		zSetLong(PureType2DatedTxnTypesAFinder.pkLongAttribute(), newValue, true ,false);
+	}
+
+	public void setPkLongAttributeUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(PureType2DatedTxnTypesAFinder.pkLongAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	public short getPkShortAttribute()
+	{
+		return this.zSynchronizedGetData().getPkShortAttribute();
+	}
+
+	public void setPkShortAttribute(short newValue)
+	{
+		zSetShort(PureType2DatedTxnTypesAFinder.pkShortAttribute(), newValue, true ,false);
+	}
+
+	public void setPkShortAttributeUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(PureType2DatedTxnTypesAFinder.pkShortAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	public String getPkStringAttribute()
+	{
+		return this.zSynchronizedGetData().getPkStringAttribute();
+	}
+
+	public void setPkStringAttribute(String newValue)
+	{
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(PureType2DatedTxnTypesAFinder.pkStringAttribute(), newValue, true );
+	}
+
+	public void setPkStringAttributeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(PureType2DatedTxnTypesAFinder.pkStringAttribute(), newValue, true , exclusiveUntil);
+	}
+
+	public Timestamp getPkTimestampAttribute()
+	{
+		return this.zSynchronizedGetData().getPkTimestampAttribute();
+	}
+
+	public void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(PureType2DatedTxnTypesAFinder.pkTimestampAttribute(), newValue, true );
+	}
+
+	public void setPkTimestampAttributeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(PureType2DatedTxnTypesAFinder.pkTimestampAttribute(), newValue, true , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureType2DatedTxnTypesAFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureType2DatedTxnTypesAFinder.processingDateTo(), newValue, false );
+	}
+
+	public short getShortAttribute()
+	{
+		PureType2DatedTxnTypesAData data = this.zSynchronizedGetData();
+		if (data.isShortAttributeNull()) MithraNullPrimitiveException.throwNew("shortAttribute", data);
+		return data.getShortAttribute();
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(PureType2DatedTxnTypesAFinder.shortAttribute(), newValue, false ,true);
+	}
+
+	public void setShortAttributeUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(PureType2DatedTxnTypesAFinder.shortAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getStringAttribute()
+	{
+		return this.zSynchronizedGetData().getStringAttribute();
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'stringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(PureType2DatedTxnTypesAFinder.stringAttribute(), newValue, false );
+	}
+
+	public void setStringAttributeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'stringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(PureType2DatedTxnTypesAFinder.stringAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		return this.zSynchronizedGetData().getTimestampAttribute();
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(PureType2DatedTxnTypesAFinder.timestampAttribute(), newValue, false );
+	}
+
+	public void setTimestampAttributeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(PureType2DatedTxnTypesAFinder.timestampAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, PureType2DatedTxnTypesAFinder.booleanAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureType2DatedTxnTypesAFinder.byteAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureType2DatedTxnTypesAFinder.charAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureType2DatedTxnTypesAFinder.doubleAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureType2DatedTxnTypesAFinder.floatAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureType2DatedTxnTypesAFinder.intAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureType2DatedTxnTypesAFinder.longAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, PureType2DatedTxnTypesAFinder.shortAttribute(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		PureType2DatedTxnTypesAData data2 = (PureType2DatedTxnTypesAData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && PureType2DatedTxnTypesAFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zNullify(PureType2DatedTxnTypesAFinder.booleanAttribute(), false);
+	}
+
+	public void setBooleanAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureType2DatedTxnTypesAFinder.booleanAttribute(), false, exclusiveUntil);
+	}
+
+	public void setByteAttributeNull()
+	{
+		zNullify(PureType2DatedTxnTypesAFinder.byteAttribute(), false);
+	}
+
+	public void setByteAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureType2DatedTxnTypesAFinder.byteAttribute(), false, exclusiveUntil);
+	}
+
+	public void setCharAttributeNull()
+	{
+		zNullify(PureType2DatedTxnTypesAFinder.charAttribute(), false);
+	}
+
+	public void setCharAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureType2DatedTxnTypesAFinder.charAttribute(), false, exclusiveUntil);
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zNullify(PureType2DatedTxnTypesAFinder.doubleAttribute(), false);
+	}
+
+	public void setDoubleAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureType2DatedTxnTypesAFinder.doubleAttribute(), false, exclusiveUntil);
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zNullify(PureType2DatedTxnTypesAFinder.floatAttribute(), false);
+	}
+
+	public void setFloatAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureType2DatedTxnTypesAFinder.floatAttribute(), false, exclusiveUntil);
+	}
+
+	public void setIntAttributeNull()
+	{
+		zNullify(PureType2DatedTxnTypesAFinder.intAttribute(), false);
+	}
+
+	public void setIntAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureType2DatedTxnTypesAFinder.intAttribute(), false, exclusiveUntil);
+	}
+
+	public void setLongAttributeNull()
+	{
+		zNullify(PureType2DatedTxnTypesAFinder.longAttribute(), false);
+	}
+
+	public void setLongAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureType2DatedTxnTypesAFinder.longAttribute(), false, exclusiveUntil);
+	}
+
+	public void setShortAttributeNull()
+	{
+		zNullify(PureType2DatedTxnTypesAFinder.shortAttribute(), false);
+	}
+
+	public void setShortAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(PureType2DatedTxnTypesAFinder.shortAttribute(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PureType2DatedTxnTypesAData _newData = (PureType2DatedTxnTypesAData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		PureType2DatedTxnTypesAData _newData = (PureType2DatedTxnTypesAData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		PureType2DatedTxnTypesAData _newData = (PureType2DatedTxnTypesAData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return PureType2DatedTxnTypesAFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PureType2DatedTxnTypesAData.PureType2DatedTxnTypesADataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		PureType2DatedTxnTypesAData data = (PureType2DatedTxnTypesAData) PureType2DatedTxnTypesAFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("PureType2DatedTxnTypesA has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromPureType2DatedTxnTypesAData( PureType2DatedTxnTypesAData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromPureType2DatedTxnTypesAData( PureType2DatedTxnTypesAData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) PureType2DatedTxnTypesAFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PureType2DatedTxnTypesAFinder.getMithraObjectPortal();
+	}
+
+	public PureType2DatedTxnTypesA getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(PureType2DatedTxnTypesAAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		PureType2DatedTxnTypesAAbstract from = (PureType2DatedTxnTypesAAbstract) f;
+		PureType2DatedTxnTypesAData newData = from.zSynchronizedGetData();
+		if (from.isBooleanAttributeNull())
+		{
+			this.setBooleanAttributeNull();
+		}
+		else
+		{
+			this.setBooleanAttribute(newData.isBooleanAttribute());
+		}
+
+		if (from.isByteAttributeNull())
+		{
+			this.setByteAttributeNull();
+		}
+		else
+		{
+			this.setByteAttribute(newData.getByteAttribute());
+		}
+
+		if (from.isCharAttributeNull())
+		{
+			this.setCharAttributeNull();
+		}
+		else
+		{
+			this.setCharAttribute(newData.getCharAttribute());
+		}
+
+		this.setDateAttribute(newData.getDateAttribute());
+		if (from.isDoubleAttributeNull())
+		{
+			this.setDoubleAttributeNull();
+		}
+		else
+		{
+			this.setDoubleAttribute(newData.getDoubleAttribute());
+		}
+
+		if (from.isFloatAttributeNull())
+		{
+			this.setFloatAttributeNull();
+		}
+		else
+		{
+			this.setFloatAttribute(newData.getFloatAttribute());
+		}
+
+		if (from.isIntAttributeNull())
+		{
+			this.setIntAttributeNull();
+		}
+		else
+		{
+			this.setIntAttribute(newData.getIntAttribute());
+		}
+
+		if (from.isLongAttributeNull())
+		{
+			this.setLongAttributeNull();
+		}
+		else
+		{
+			this.setLongAttribute(newData.getLongAttribute());
+		}
+
+		if (from.isShortAttributeNull())
+		{
+			this.setShortAttributeNull();
+		}
+		else
+		{
+			this.setShortAttribute(newData.getShortAttribute());
+		}
+
+		this.setStringAttribute(newData.getStringAttribute());
+		this.setTimestampAttribute(newData.getTimestampAttribute());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		PureType2DatedTxnTypesAData _newData = (PureType2DatedTxnTypesAData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		PureType2DatedTxnTypesAData _newData = (PureType2DatedTxnTypesAData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(PureType2DatedTxnTypesAAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		PureType2DatedTxnTypesAAbstract from = (PureType2DatedTxnTypesAAbstract)f;
+		PureType2DatedTxnTypesAData newData = from.zSynchronizedGetData();
+		if (from.isBooleanAttributeNull())
+		{
+			this.setBooleanAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setBooleanAttributeUntil(newData.isBooleanAttribute(), exclusiveUntil);
+		}
+
+		if (from.isByteAttributeNull())
+		{
+			this.setByteAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setByteAttributeUntil(newData.getByteAttribute(), exclusiveUntil);
+		}
+
+		if (from.isCharAttributeNull())
+		{
+			this.setCharAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setCharAttributeUntil(newData.getCharAttribute(), exclusiveUntil);
+		}
+
+		this.setDateAttributeUntil(newData.getDateAttribute(), exclusiveUntil);
+		if (from.isDoubleAttributeNull())
+		{
+			this.setDoubleAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setDoubleAttributeUntil(newData.getDoubleAttribute(), exclusiveUntil);
+		}
+
+		if (from.isFloatAttributeNull())
+		{
+			this.setFloatAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setFloatAttributeUntil(newData.getFloatAttribute(), exclusiveUntil);
+		}
+
+		if (from.isIntAttributeNull())
+		{
+			this.setIntAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setIntAttributeUntil(newData.getIntAttribute(), exclusiveUntil);
+		}
+
+		if (from.isLongAttributeNull())
+		{
+			this.setLongAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setLongAttributeUntil(newData.getLongAttribute(), exclusiveUntil);
+		}
+
+		if (from.isShortAttributeNull())
+		{
+			this.setShortAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setShortAttributeUntil(newData.getShortAttribute(), exclusiveUntil);
+		}
+
+		this.setStringAttributeUntil(newData.getStringAttribute(), exclusiveUntil);
+		this.setTimestampAttributeUntil(newData.getTimestampAttribute(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		PureType2DatedTxnTypesAData newData = (PureType2DatedTxnTypesAData) d;
+		PureType2DatedTxnTypesAData data = (PureType2DatedTxnTypesAData) nd;
+		if (PureType2DatedTxnTypesAFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, PureType2DatedTxnTypesAFinder.booleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, PureType2DatedTxnTypesAFinder.byteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, PureType2DatedTxnTypesAFinder.charAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, PureType2DatedTxnTypesAFinder.dateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, PureType2DatedTxnTypesAFinder.doubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, PureType2DatedTxnTypesAFinder.floatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PureType2DatedTxnTypesAFinder.intAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, PureType2DatedTxnTypesAFinder.longAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkTimestampAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, PureType2DatedTxnTypesAFinder.shortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, PureType2DatedTxnTypesAFinder.stringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, PureType2DatedTxnTypesAFinder.timestampAttribute(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, PureType2DatedTxnTypesAFinder.booleanAttribute(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, PureType2DatedTxnTypesAFinder.byteAttribute(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, PureType2DatedTxnTypesAFinder.charAttribute(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, PureType2DatedTxnTypesAFinder.dateAttribute(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, PureType2DatedTxnTypesAFinder.doubleAttribute(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, PureType2DatedTxnTypesAFinder.floatAttribute(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, PureType2DatedTxnTypesAFinder.intAttribute(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, PureType2DatedTxnTypesAFinder.longAttribute(), false, until);
+		changed |= zUpdateBoolean(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkBooleanAttribute(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkByteAttribute(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkCharAttribute(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkDateAttribute(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkDoubleAttribute(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkFloatAttribute(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkIntAttribute(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkLongAttribute(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkShortAttribute(), false, until);
+		changed |= zUpdateString(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkStringAttribute(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, PureType2DatedTxnTypesAFinder.pkTimestampAttribute(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, PureType2DatedTxnTypesAFinder.shortAttribute(), false, until);
+		changed |= zUpdateString(behavior, data, newData, PureType2DatedTxnTypesAFinder.stringAttribute(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, PureType2DatedTxnTypesAFinder.timestampAttribute(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		PureType2DatedTxnTypesAData data = ((PureType2DatedTxnTypesAData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		PureType2DatedTxnTypesAData data = ((PureType2DatedTxnTypesAData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		PureType2DatedTxnTypesAData data = ((PureType2DatedTxnTypesAData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedTxnTypesAFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedTxnTypesAFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		PureType2DatedTxnTypesAData localData = (PureType2DatedTxnTypesAData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,2483 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface PureType2DatedTxnTypesAData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 140;
+	boolean isBooleanAttributeNull();
+	boolean isBooleanAttribute();
+	void setBooleanAttribute(boolean value);
+	void setBooleanAttributeNull();
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isByteAttributeNull();
+	byte getByteAttribute();
+	void setByteAttribute(byte value);
+	void setByteAttributeNull();
+	boolean isCharAttributeNull();
+	char getCharAttribute();
+	void setCharAttribute(char value);
+	void setCharAttributeNull();
+	boolean isDateAttributeNull();
+	Date getDateAttribute();
+	void setDateAttribute(java.util.Date value);
+	void setDateAttributeNull();
+	boolean isDoubleAttributeNull();
+	double getDoubleAttribute();
+	void setDoubleAttribute(double value);
+	void setDoubleAttributeNull();
+	boolean isFloatAttributeNull();
+	float getFloatAttribute();
+	void setFloatAttribute(float value);
+	void setFloatAttributeNull();
+	boolean isIntAttributeNull();
+	int getIntAttribute();
+	void setIntAttribute(int value);
+	void setIntAttributeNull();
+	boolean isLongAttributeNull();
+	long getLongAttribute();
+	void setLongAttribute(long value);
+	void setLongAttributeNull();
+	boolean isPkBooleanAttributeNull();
+	boolean isPkBooleanAttribute();
+	void setPkBooleanAttribute(boolean value);
+	void setPkBooleanAttributeNull();
+	boolean isPkByteAttributeNull();
+	byte getPkByteAttribute();
+	void setPkByteAttribute(byte value);
+	void setPkByteAttributeNull();
+	boolean isPkCharAttributeNull();
+	char getPkCharAttribute();
+	void setPkCharAttribute(char value);
+	void setPkCharAttributeNull();
+	boolean isPkDateAttributeNull();
+	Date getPkDateAttribute();
+	void setPkDateAttribute(java.util.Date value);
+	void setPkDateAttributeNull();
+	boolean isPkDoubleAttributeNull();
+	double getPkDoubleAttribute();
+	void setPkDoubleAttribute(double value);
+	void setPkDoubleAttributeNull();
+	boolean isPkFloatAttributeNull();
+	float getPkFloatAttribute();
+	void setPkFloatAttribute(float value);
+	void setPkFloatAttributeNull();
+	boolean isPkIntAttributeNull();
+	int getPkIntAttribute();
+	void setPkIntAttribute(int value);
+	void setPkIntAttributeNull();
+	boolean isPkLongAttributeNull();
+	long getPkLongAttribute();
+	void setPkLongAttribute(long value);
+	void setPkLongAttributeNull();
+	boolean isPkShortAttributeNull();
+	short getPkShortAttribute();
+	void setPkShortAttribute(short value);
+	void setPkShortAttributeNull();
+	boolean isPkStringAttributeNull();
+	String getPkStringAttribute();
+	void setPkStringAttribute(String value);
+	void setPkStringAttributeNull();
+	int zGetPkStringAttributeAsInt();
+	boolean isPkTimestampAttributeNull();
+	Timestamp getPkTimestampAttribute();
+	void setPkTimestampAttribute(Timestamp value);
+	void setPkTimestampAttributeNull();
+	long zGetPkTimestampAttributeAsLong();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isShortAttributeNull();
+	short getShortAttribute();
+	void setShortAttribute(short value);
+	void setShortAttributeNull();
+	boolean isStringAttributeNull();
+	String getStringAttribute();
+	void setStringAttribute(String value);
+	void setStringAttributeNull();
+	int zGetStringAttributeAsInt();
+	boolean isTimestampAttributeNull();
+	Timestamp getTimestampAttribute();
+	void setTimestampAttribute(Timestamp value);
+	void setTimestampAttributeNull();
+	long zGetTimestampAttributeAsLong();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class PureType2DatedTxnTypesADataOnHeap implements PureType2DatedTxnTypesAData
+	{
+		private byte _dataVersion;
+		private byte isNullBits0 = 0;
+		private boolean booleanAttribute;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private byte byteAttribute;
+		private char charAttribute;
+		private Date dateAttribute;
+		private double doubleAttribute;
+		private float floatAttribute;
+		private int intAttribute;
+		private long longAttribute;
+		private boolean pkBooleanAttribute;
+		private byte pkByteAttribute;
+		private char pkCharAttribute;
+		private Date pkDateAttribute;
+		private double pkDoubleAttribute;
+		private float pkFloatAttribute;
+		private int pkIntAttribute;
+		private long pkLongAttribute;
+		private short pkShortAttribute;
+		private String pkStringAttribute;
+		private Timestamp pkTimestampAttribute;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private short shortAttribute;
+		private String stringAttribute;
+		private Timestamp timestampAttribute;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isDateAttributeNull()
+		{
+			return this.getDateAttribute() == null;
+		}
+
+		public boolean isPkBooleanAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkByteAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkCharAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkDateAttributeNull()
+		{
+			return this.getPkDateAttribute() == null;
+		}
+
+		public boolean isPkDoubleAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkFloatAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkIntAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkLongAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkShortAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkStringAttributeNull()
+		{
+			return this.getPkStringAttribute() == null;
+		}
+
+		public boolean isPkTimestampAttributeNull()
+		{
+			return this.getPkTimestampAttribute() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isStringAttributeNull()
+		{
+			return this.getStringAttribute() == null;
+		}
+
+		public boolean isTimestampAttributeNull()
+		{
+			return this.getTimestampAttribute() == null;
+		}
+
+		public boolean isBooleanAttributeNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isByteAttributeNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public boolean isCharAttributeNull()
+		{
+			return (isNullBits0 & 1 << 2) != 0 ;
+		}
+
+		public boolean isDoubleAttributeNull()
+		{
+			return (isNullBits0 & 1 << 3) != 0 ;
+		}
+
+		public boolean isFloatAttributeNull()
+		{
+			return (isNullBits0 & 1 << 4) != 0 ;
+		}
+
+		public boolean isIntAttributeNull()
+		{
+			return (isNullBits0 & 1 << 5) != 0 ;
+		}
+
+		public boolean isLongAttributeNull()
+		{
+			return (isNullBits0 & 1 << 6) != 0 ;
+		}
+
+		public boolean isShortAttributeNull()
+		{
+			return (isNullBits0 & 1 << 7) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeBoolean(this.booleanAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, PureType2DatedTxnTypesAFinder.businessDate().getInfinityDate());
+			out.writeByte(this.byteAttribute);
+			out.writeChar(this.charAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveDate(out, this.dateAttribute);
+			out.writeDouble(this.doubleAttribute);
+			out.writeFloat(this.floatAttribute);
+			out.writeInt(this.intAttribute);
+			out.writeLong(this.longAttribute);
+			out.writeBoolean(this.pkBooleanAttribute);
+			out.writeByte(this.pkByteAttribute);
+			out.writeChar(this.pkCharAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveDate(out, this.pkDateAttribute);
+			out.writeDouble(this.pkDoubleAttribute);
+			out.writeFloat(this.pkFloatAttribute);
+			out.writeInt(this.pkIntAttribute);
+			out.writeLong(this.pkLongAttribute);
+			out.writeShort(this.pkShortAttribute);
+			out.writeObject(this.pkStringAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.pkTimestampAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, PureType2DatedTxnTypesAFinder.processingDate().getInfinityDate());
+			out.writeShort(this.shortAttribute);
+			out.writeObject(this.stringAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.timestampAttribute);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public boolean isBooleanAttribute()
+		{
+			return this.booleanAttribute;
+		}
+
+		public void setBooleanAttribute(boolean value)
+		{
+			this.booleanAttribute = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte getByteAttribute()
+		{
+			return this.byteAttribute;
+		}
+
+		public void setByteAttribute(byte value)
+		{
+			this.byteAttribute = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public char getCharAttribute()
+		{
+			return this.charAttribute;
+		}
+
+		public void setCharAttribute(char value)
+		{
+			this.charAttribute = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+		}
+
+		public Date getDateAttribute()
+		{
+			return this.dateAttribute;
+		}
+
+		public void setDateAttribute(java.util.Date value)
+		{
+			if (value == null || value instanceof java.sql.Date)
+			{
+				this.dateAttribute = (java.sql.Date) value;
+			}
+			else
+			{
+				this.dateAttribute = new java.sql.Date(value.getTime());
+			}
+		}
+
+		public void setDateAttributeNull()
+		{
+			this.setDateAttribute(null);
+		}
+
+		public double getDoubleAttribute()
+		{
+			return this.doubleAttribute;
+		}
+
+		public void setDoubleAttribute(double value)
+		{
+			this.doubleAttribute = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+		}
+
+		public float getFloatAttribute()
+		{
+			return this.floatAttribute;
+		}
+
+		public void setFloatAttribute(float value)
+		{
+			this.floatAttribute = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+		}
+
+		public int getIntAttribute()
+		{
+			return this.intAttribute;
+		}
+
+		public void setIntAttribute(int value)
+		{
+			this.intAttribute = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+		}
+
+		public long getLongAttribute()
+		{
+			return this.longAttribute;
+		}
+
+		public void setLongAttribute(long value)
+		{
+			this.longAttribute = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+		}
+
+		public boolean isPkBooleanAttribute()
+		{
+			return this.pkBooleanAttribute;
+		}
+
+		public void setPkBooleanAttribute(boolean value)
+		{
+			this.pkBooleanAttribute = value;
+		}
+
+		public void setPkBooleanAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte getPkByteAttribute()
+		{
+			return this.pkByteAttribute;
+		}
+
+		public void setPkByteAttribute(byte value)
+		{
+			this.pkByteAttribute = value;
+		}
+
+		public void setPkByteAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public char getPkCharAttribute()
+		{
+			return this.pkCharAttribute;
+		}
+
+		public void setPkCharAttribute(char value)
+		{
+			this.pkCharAttribute = value;
+		}
+
+		public void setPkCharAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Date getPkDateAttribute()
+		{
+			return this.pkDateAttribute;
+		}
+
+		public void setPkDateAttribute(java.util.Date value)
+		{
+			if (value == null || value instanceof java.sql.Date)
+			{
+				this.pkDateAttribute = (java.sql.Date) value;
+			}
+			else
+			{
+				this.pkDateAttribute = new java.sql.Date(value.getTime());
+			}
+		}
+
+		public void setPkDateAttributeNull()
+		{
+			this.setPkDateAttribute(null);
+		}
+
+		public double getPkDoubleAttribute()
+		{
+			return this.pkDoubleAttribute;
+		}
+
+		public void setPkDoubleAttribute(double value)
+		{
+			this.pkDoubleAttribute = value;
+		}
+
+		public void setPkDoubleAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public float getPkFloatAttribute()
+		{
+			return this.pkFloatAttribute;
+		}
+
+		public void setPkFloatAttribute(float value)
+		{
+			this.pkFloatAttribute = value;
+		}
+
+		public void setPkFloatAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getPkIntAttribute()
+		{
+			return this.pkIntAttribute;
+		}
+
+		public void setPkIntAttribute(int value)
+		{
+			this.pkIntAttribute = value;
+		}
+
+		public void setPkIntAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getPkLongAttribute()
+		{
+			return this.pkLongAttribute;
+		}
+
+		public void setPkLongAttribute(long value)
+		{
+			this.pkLongAttribute = value;
+		}
+
+		public void setPkLongAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public short getPkShortAttribute()
+		{
+			return this.pkShortAttribute;
+		}
+
+		public void setPkShortAttribute(short value)
+		{
+			this.pkShortAttribute = value;
+		}
+
+		public void setPkShortAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getPkStringAttribute()
+		{
+			return this.pkStringAttribute;
+		}
+
+		public int zGetPkStringAttributeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(pkStringAttribute);
+		}
+
+		public void setPkStringAttribute(String value)
+		{
+			this.pkStringAttribute = value;
+		}
+
+		public void setPkStringAttributeNull()
+		{
+			this.setPkStringAttribute(null);
+		}
+
+		public Timestamp getPkTimestampAttribute()
+		{
+			return this.pkTimestampAttribute;
+		}
+
+		public long zGetPkTimestampAttributeAsLong()
+		{
+			if (pkTimestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+			return pkTimestampAttribute.getTime();
+		}
+
+		public void setPkTimestampAttribute(Timestamp value)
+		{
+			this.pkTimestampAttribute = value;
+		}
+
+		public void setPkTimestampAttributeNull()
+		{
+			this.setPkTimestampAttribute(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public short getShortAttribute()
+		{
+			return this.shortAttribute;
+		}
+
+		public void setShortAttribute(short value)
+		{
+			this.shortAttribute = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 7));
+		}
+
+		public String getStringAttribute()
+		{
+			return this.stringAttribute;
+		}
+
+		public int zGetStringAttributeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(stringAttribute);
+		}
+
+		public void setStringAttribute(String value)
+		{
+			this.stringAttribute = value;
+		}
+
+		public void setStringAttributeNull()
+		{
+			this.setStringAttribute(null);
+		}
+
+		public Timestamp getTimestampAttribute()
+		{
+			return this.timestampAttribute;
+		}
+
+		public long zGetTimestampAttributeAsLong()
+		{
+			if (timestampAttribute == null) return TimestampPool.OFF_HEAP_NULL;
+			return timestampAttribute.getTime();
+		}
+
+		public void setTimestampAttribute(Timestamp value)
+		{
+			this.timestampAttribute = value;
+		}
+
+		public void setTimestampAttributeNull()
+		{
+			this.setTimestampAttribute(null);
+		}
+
+		public void setBooleanAttributeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setByteAttributeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public void setCharAttributeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+		}
+
+		public void setDoubleAttributeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+		}
+
+		public void setFloatAttributeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+		}
+
+		public void setIntAttributeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+		}
+
+		public void setLongAttributeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+		}
+
+		public void setShortAttributeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 7);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(PureType2DatedTxnTypesADataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.booleanAttribute = this.booleanAttribute;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.byteAttribute = this.byteAttribute;
+			copy.charAttribute = this.charAttribute;
+			copy.dateAttribute = this.dateAttribute;
+			copy.doubleAttribute = this.doubleAttribute;
+			copy.floatAttribute = this.floatAttribute;
+			copy.intAttribute = this.intAttribute;
+			copy.longAttribute = this.longAttribute;
+			copy.pkBooleanAttribute = this.pkBooleanAttribute;
+			copy.pkByteAttribute = this.pkByteAttribute;
+			copy.pkCharAttribute = this.pkCharAttribute;
+			copy.pkDateAttribute = this.pkDateAttribute;
+			copy.pkDoubleAttribute = this.pkDoubleAttribute;
+			copy.pkFloatAttribute = this.pkFloatAttribute;
+			copy.pkIntAttribute = this.pkIntAttribute;
+			copy.pkLongAttribute = this.pkLongAttribute;
+			copy.pkShortAttribute = this.pkShortAttribute;
+			copy.pkStringAttribute = this.pkStringAttribute;
+			copy.pkTimestampAttribute = this.pkTimestampAttribute;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.shortAttribute = this.shortAttribute;
+			copy.stringAttribute = this.stringAttribute;
+			copy.timestampAttribute = this.timestampAttribute;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.booleanAttribute = in.readBoolean();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, PureType2DatedTxnTypesAFinder.businessDate().getInfinityDate()), PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+			this.byteAttribute = in.readByte();
+			this.charAttribute = in.readChar();
+			this.dateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.doubleAttribute = in.readDouble();
+			this.floatAttribute = in.readFloat();
+			this.intAttribute = in.readInt();
+			this.longAttribute = in.readLong();
+			this.pkBooleanAttribute = in.readBoolean();
+			this.pkByteAttribute = in.readByte();
+			this.pkCharAttribute = in.readChar();
+			this.pkDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.pkDoubleAttribute = in.readDouble();
+			this.pkFloatAttribute = in.readFloat();
+			this.pkIntAttribute = in.readInt();
+			this.pkLongAttribute = in.readLong();
+			this.pkShortAttribute = in.readShort();
+			this.pkStringAttribute = (String)in.readObject();
+			this.pkTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, PureType2DatedTxnTypesAFinder.processingDate().getInfinityDate()), PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+			this.shortAttribute = in.readShort();
+			this.stringAttribute = (String)in.readObject();
+			this.timestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final PureType2DatedTxnTypesAData otherData = (PureType2DatedTxnTypesAData) other;
+			if (isPkBooleanAttribute() != otherData.isPkBooleanAttribute())
+			{
+				return false;
+			}
+
+			if (getPkByteAttribute() != otherData.getPkByteAttribute())
+			{
+				return false;
+			}
+
+			if (getPkCharAttribute() != otherData.getPkCharAttribute())
+			{
+				return false;
+			}
+
+			if (!isPkDateAttributeNull() ? !getPkDateAttribute().equals(otherData.getPkDateAttribute()) : !otherData.isPkDateAttributeNull())
+			{
+				return false;
+			}
+
+			if (getPkDoubleAttribute() != otherData.getPkDoubleAttribute())
+			{
+				return false;
+			}
+
+			if (getPkFloatAttribute() != otherData.getPkFloatAttribute())
+			{
+				return false;
+			}
+
+			if (getPkIntAttribute() != otherData.getPkIntAttribute())
+			{
+				return false;
+			}
+
+			if (getPkLongAttribute() != otherData.getPkLongAttribute())
+			{
+				return false;
+			}
+
+			if (getPkShortAttribute() != otherData.getPkShortAttribute())
+			{
+				return false;
+			}
+
+			if (!isPkStringAttributeNull() ? !getPkStringAttribute().equals(otherData.getPkStringAttribute()) : !otherData.isPkStringAttributeNull())
+			{
+				return false;
+			}
+
+			if (!isPkTimestampAttributeNull() ? !getPkTimestampAttribute().equals(otherData.getPkTimestampAttribute()) : !otherData.isPkTimestampAttributeNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, PureType2DatedTxnTypesAFinder.businessDate().getInfinityDate());
+			out.writeBoolean(this.pkBooleanAttribute);
+			out.writeByte(this.pkByteAttribute);
+			out.writeChar(this.pkCharAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveDate(out, this.pkDateAttribute);
+			out.writeDouble(this.pkDoubleAttribute);
+			out.writeFloat(this.pkFloatAttribute);
+			out.writeInt(this.pkIntAttribute);
+			out.writeLong(this.pkLongAttribute);
+			out.writeShort(this.pkShortAttribute);
+			out.writeObject(this.pkStringAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.pkTimestampAttribute);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, PureType2DatedTxnTypesAFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, PureType2DatedTxnTypesAFinder.businessDate().getInfinityDate()), PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+			this.pkBooleanAttribute = in.readBoolean();
+			this.pkByteAttribute = in.readByte();
+			this.pkCharAttribute = in.readChar();
+			this.pkDateAttribute = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.pkDoubleAttribute = in.readDouble();
+			this.pkFloatAttribute = in.readFloat();
+			this.pkIntAttribute = in.readInt();
+			this.pkLongAttribute = in.readLong();
+			this.pkShortAttribute = in.readShort();
+			this.pkStringAttribute = (String)in.readObject();
+			this.pkTimestampAttribute = MithraTimestamp.readTimezoneInsensitiveTimestamp(in);
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, PureType2DatedTxnTypesAFinder.processingDate().getInfinityDate()), PureType2DatedTxnTypesAFinder.isFullCache(), PureType2DatedTxnTypesAFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			PureType2DatedTxnTypesADataOffHeap data = new PureType2DatedTxnTypesADataOffHeap();
+			data.setBooleanAttribute(this.isBooleanAttribute());
+			if (this.isBooleanAttributeNull()) data.setBooleanAttributeNull();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setByteAttribute(this.getByteAttribute());
+			if (this.isByteAttributeNull()) data.setByteAttributeNull();
+			data.setCharAttribute(this.getCharAttribute());
+			if (this.isCharAttributeNull()) data.setCharAttributeNull();
+			data.setDateAttribute(this.getDateAttribute());
+			data.setDoubleAttribute(this.getDoubleAttribute());
+			if (this.isDoubleAttributeNull()) data.setDoubleAttributeNull();
+			data.setFloatAttribute(this.getFloatAttribute());
+			if (this.isFloatAttributeNull()) data.setFloatAttributeNull();
+			data.setIntAttribute(this.getIntAttribute());
+			if (this.isIntAttributeNull()) data.setIntAttributeNull();
+			data.setLongAttribute(this.getLongAttribute());
+			if (this.isLongAttributeNull()) data.setLongAttributeNull();
+			data.setPkBooleanAttribute(this.isPkBooleanAttribute());
+			data.setPkByteAttribute(this.getPkByteAttribute());
+			data.setPkCharAttribute(this.getPkCharAttribute());
+			data.setPkDateAttribute(this.getPkDateAttribute());
+			data.setPkDoubleAttribute(this.getPkDoubleAttribute());
+			data.setPkFloatAttribute(this.getPkFloatAttribute());
+			data.setPkIntAttribute(this.getPkIntAttribute());
+			data.setPkLongAttribute(this.getPkLongAttribute());
+			data.setPkShortAttribute(this.getPkShortAttribute());
+			data.setPkStringAttribute(this.getPkStringAttribute());
+			data.setPkTimestampAttribute(this.getPkTimestampAttribute());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setShortAttribute(this.getShortAttribute());
+			if (this.isShortAttributeNull()) data.setShortAttributeNull();
+			data.setStringAttribute(this.getStringAttribute());
+			data.setTimestampAttribute(this.getTimestampAttribute());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final PureType2DatedTxnTypesAData pureType2DatedTxnTypesAData = (PureType2DatedTxnTypesAData) newData;
+			this.setBooleanAttribute(pureType2DatedTxnTypesAData.isBooleanAttribute());
+			if (pureType2DatedTxnTypesAData.isBooleanAttributeNull()) this.setBooleanAttributeNull();
+			this.setBusinessDateFrom(pureType2DatedTxnTypesAData.getBusinessDateFrom());
+			this.setBusinessDateTo(pureType2DatedTxnTypesAData.getBusinessDateTo());
+			this.setByteAttribute(pureType2DatedTxnTypesAData.getByteAttribute());
+			if (pureType2DatedTxnTypesAData.isByteAttributeNull()) this.setByteAttributeNull();
+			this.setCharAttribute(pureType2DatedTxnTypesAData.getCharAttribute());
+			if (pureType2DatedTxnTypesAData.isCharAttributeNull()) this.setCharAttributeNull();
+			this.setDateAttribute(pureType2DatedTxnTypesAData.getDateAttribute());
+			this.setDoubleAttribute(pureType2DatedTxnTypesAData.getDoubleAttribute());
+			if (pureType2DatedTxnTypesAData.isDoubleAttributeNull()) this.setDoubleAttributeNull();
+			this.setFloatAttribute(pureType2DatedTxnTypesAData.getFloatAttribute());
+			if (pureType2DatedTxnTypesAData.isFloatAttributeNull()) this.setFloatAttributeNull();
+			this.setIntAttribute(pureType2DatedTxnTypesAData.getIntAttribute());
+			if (pureType2DatedTxnTypesAData.isIntAttributeNull()) this.setIntAttributeNull();
+			this.setLongAttribute(pureType2DatedTxnTypesAData.getLongAttribute());
+			if (pureType2DatedTxnTypesAData.isLongAttributeNull()) this.setLongAttributeNull();
+			this.setProcessingDateFrom(pureType2DatedTxnTypesAData.getProcessingDateFrom());
+			this.setProcessingDateTo(pureType2DatedTxnTypesAData.getProcessingDateTo());
+			this.setShortAttribute(pureType2DatedTxnTypesAData.getShortAttribute());
+			if (pureType2DatedTxnTypesAData.isShortAttributeNull()) this.setShortAttributeNull();
+			this.setStringAttribute(pureType2DatedTxnTypesAData.getStringAttribute());
+			this.setTimestampAttribute(pureType2DatedTxnTypesAData.getTimestampAttribute());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final PureType2DatedTxnTypesAData other = (PureType2DatedTxnTypesAData) newData;
+			if ( isBooleanAttributeNull() != other.isBooleanAttributeNull() || isBooleanAttribute() != other.isBooleanAttribute())
+			{
+				return true;
+			}
+
+			if ( isByteAttributeNull() != other.isByteAttributeNull() || getByteAttribute() != other.getByteAttribute())
+			{
+				return true;
+			}
+
+			if ( isCharAttributeNull() != other.isCharAttributeNull() || getCharAttribute() != other.getCharAttribute())
+			{
+				return true;
+			}
+
+			if (!isDateAttributeNull() ? !getDateAttribute().equals(other.getDateAttribute()) : !other.isDateAttributeNull())
+			{
+				return true;
+			}
+
+			if ( isDoubleAttributeNull() != other.isDoubleAttributeNull() || Math.abs(getDoubleAttribute() - other.getDoubleAttribute()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFloatAttributeNull() != other.isFloatAttributeNull() || Math.abs(getFloatAttribute() - other.getFloatAttribute()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isIntAttributeNull() != other.isIntAttributeNull() || getIntAttribute() != other.getIntAttribute())
+			{
+				return true;
+			}
+
+			if ( isLongAttributeNull() != other.isLongAttributeNull() || getLongAttribute() != other.getLongAttribute())
+			{
+				return true;
+			}
+
+			if ( isShortAttributeNull() != other.isShortAttributeNull() || getShortAttribute() != other.getShortAttribute())
+			{
+				return true;
+			}
+
+			if (!isStringAttributeNull() ? !getStringAttribute().equals(other.getStringAttribute()) : !other.isStringAttributeNull())
+			{
+				return true;
+			}
+
+			if (!isTimestampAttributeNull() ? !getTimestampAttribute().equals(other.getTimestampAttribute()) : !other.isTimestampAttributeNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			PureType2DatedTxnTypesADataOnHeap copy = new PureType2DatedTxnTypesADataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			PureType2DatedTxnTypesADataOnHeap copy = new PureType2DatedTxnTypesADataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "pkBooleanAttribute: "+(""+isPkBooleanAttribute())+ " / ";
+			result += "pkByteAttribute: "+(""+getPkByteAttribute())+ " / ";
+			result += "pkCharAttribute: "+(""+getPkCharAttribute())+ " / ";
+			result += "pkDateAttribute: "+PrintablePreparedStatement.dateFormat.print(getPkDateAttribute().getTime())+ " / ";
+			result += "pkDoubleAttribute: "+(""+getPkDoubleAttribute())+ " / ";
+			result += "pkFloatAttribute: "+(""+getPkFloatAttribute())+ " / ";
+			result += "pkIntAttribute: "+(""+getPkIntAttribute())+ " / ";
+			result += "pkLongAttribute: "+(""+getPkLongAttribute())+ " / ";
+			result += "pkShortAttribute: "+(""+getPkShortAttribute())+ " / ";
+			result += "pkStringAttribute: "+"'"+getPkStringAttribute()+"'"+ " / ";
+			result += "pkTimestampAttribute: "+(isPkTimestampAttributeNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getPkTimestampAttribute().getTime()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			PureType2DatedTxnTypesAData otherData = (PureType2DatedTxnTypesAData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			PureType2DatedTxnTypesAData otherData = (PureType2DatedTxnTypesAData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedTxnTypesAData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return PureType2DatedTxnTypesAFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return PureType2DatedTxnTypesAFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedTxnTypesAData";
+		}
+	}
+
+	public class PureType2DatedTxnTypesADataOffHeap extends MithraOffHeapDataObject implements PureType2DatedTxnTypesAData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public PureType2DatedTxnTypesADataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 59);
+			this.zSetTimestamp(_storage, value, 67);
+			this.zSetDate(_storage, value, 78);
+			this.zSetDate(_storage, value, 12);
+			this.zSetTimestamp(_storage, value, 50);
+			this.zSetTimestamp(_storage, value, 110);
+			this.zSetTimestamp(_storage, value, 118);
+			this.zSetTimestamp(_storage, value, 132);
+		}
+
+		public PureType2DatedTxnTypesADataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBooleanAttributeNull()
+		{
+			return zIsBooleanNull(_storage, 58);
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 59);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 67);
+		}
+
+		public boolean isByteAttributeNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isCharAttributeNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isDateAttributeNull()
+		{
+			return zIsDateNull(_storage, 78);
+		}
+
+		public boolean isDoubleAttributeNull()
+		{
+			return zIsNull(_storage, 4, 2);
+		}
+
+		public boolean isFloatAttributeNull()
+		{
+			return zIsNull(_storage, 4, 3);
+		}
+
+		public boolean isIntAttributeNull()
+		{
+			return zIsNull(_storage, 4, 4);
+		}
+
+		public boolean isLongAttributeNull()
+		{
+			return zIsNull(_storage, 4, 5);
+		}
+
+		public boolean isPkBooleanAttributeNull()
+		{
+			return zIsBooleanNull(_storage, 8);
+		}
+
+		public boolean isPkByteAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkCharAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkDateAttributeNull()
+		{
+			return zIsDateNull(_storage, 12);
+		}
+
+		public boolean isPkDoubleAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkFloatAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkIntAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkLongAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkShortAttributeNull()
+		{
+			return false;
+		}
+
+		public boolean isPkStringAttributeNull()
+		{
+			return zIsStringNull(_storage, 46);
+		}
+
+		public boolean isPkTimestampAttributeNull()
+		{
+			return zIsTimestampNull(_storage, 50);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 110);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 118);
+		}
+
+		public boolean isShortAttributeNull()
+		{
+			return zIsNull(_storage, 4, 6);
+		}
+
+		public boolean isStringAttributeNull()
+		{
+			return zIsStringNull(_storage, 128);
+		}
+
+		public boolean isTimestampAttributeNull()
+		{
+			return zIsTimestampNull(_storage, 132);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeBoolean(this.isBooleanAttribute());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), PureType2DatedTxnTypesAFinder.businessDate().getInfinityDate());
+			out.writeByte(this.getByteAttribute());
+			out.writeChar(this.getCharAttribute());
+			MithraTimestamp.writeTimezoneInsensitiveDate(out, this.getDateAttribute());
+			out.writeDouble(this.getDoubleAttribute());
+			out.writeFloat(this.getFloatAttribute());
+			out.writeInt(this.getIntAttribute());
+			out.writeLong(this.getLongAttribute());
+			out.writeBoolean(this.isPkBooleanAttribute());
+			out.writeByte(this.getPkByteAttribute());
+			out.writeChar(this.getPkCharAttribute());
+			MithraTimestamp.writeTimezoneInsensitiveDate(out, this.getPkDateAttribute());
+			out.writeDouble(this.getPkDoubleAttribute());
+			out.writeFloat(this.getPkFloatAttribute());
+			out.writeInt(this.getPkIntAttribute());
+			out.writeLong(this.getPkLongAttribute());
+			out.writeShort(this.getPkShortAttribute());
+			out.writeObject(this.getPkStringAttribute());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetPkTimestampAttributeAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), PureType2DatedTxnTypesAFinder.processingDate().getInfinityDate());
+			out.writeShort(this.getShortAttribute());
+			out.writeObject(this.getStringAttribute());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetTimestampAttributeAsLong());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isBooleanAttributeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isByteAttributeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			if (isCharAttributeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+			}
+
+			if (isDoubleAttributeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+			}
+
+			if (isFloatAttributeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+			}
+
+			if (isIntAttributeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+			}
+
+			if (isLongAttributeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+			}
+
+			if (isShortAttributeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 7);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public boolean isBooleanAttribute()
+		{
+			return zGetBoolean(_storage, 58);
+		}
+
+		public void setBooleanAttribute(boolean value)
+		{
+			zSetBoolean(_storage, value, 58);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 59);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 59);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 59);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 67);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 67);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 67);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte getByteAttribute()
+		{
+			return zGetByte(_storage, 75);
+		}
+
+		public void setByteAttribute(byte value)
+		{
+			zSetByte(_storage, value, 75, 4, 0);
+		}
+
+		public char getCharAttribute()
+		{
+			return zGetChar(_storage, 76);
+		}
+
+		public void setCharAttribute(char value)
+		{
+			zSetChar(_storage, value, 76, 4, 1);
+		}
+
+		public Date getDateAttribute()
+		{
+			return zGetDate(_storage, 78);
+		}
+
+		public void setDateAttribute(java.util.Date value)
+		{
+			zSetDate(_storage, value, 78);
+		}
+
+		public void setDateAttributeNull()
+		{
+			this.setDateAttribute(null);
+		}
+
+		public double getDoubleAttribute()
+		{
+			return zGetDouble(_storage, 86);
+		}
+
+		public void setDoubleAttribute(double value)
+		{
+			zSetDouble(_storage, value, 86, 4, 2);
+		}
+
+		public float getFloatAttribute()
+		{
+			return zGetFloat(_storage, 94);
+		}
+
+		public void setFloatAttribute(float value)
+		{
+			zSetFloat(_storage, value, 94, 4, 3);
+		}
+
+		public int getIntAttribute()
+		{
+			return zGetInteger(_storage, 98);
+		}
+
+		public void setIntAttribute(int value)
+		{
+			zSetInteger(_storage, value, 98, 4, 4);
+		}
+
+		public long getLongAttribute()
+		{
+			return zGetLong(_storage, 102);
+		}
+
+		public void setLongAttribute(long value)
+		{
+			zSetLong(_storage, value, 102, 4, 5);
+		}
+
+		public boolean isPkBooleanAttribute()
+		{
+			return zGetBoolean(_storage, 8);
+		}
+
+		public void setPkBooleanAttribute(boolean value)
+		{
+			zSetBoolean(_storage, value, 8);
+		}
+
+		public void setPkBooleanAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public byte getPkByteAttribute()
+		{
+			return zGetByte(_storage, 9);
+		}
+
+		public void setPkByteAttribute(byte value)
+		{
+			zSetByte(_storage, value, 9, -1, -1);
+		}
+
+		public void setPkByteAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public char getPkCharAttribute()
+		{
+			return zGetChar(_storage, 10);
+		}
+
+		public void setPkCharAttribute(char value)
+		{
+			zSetChar(_storage, value, 10, -1, -1);
+		}
+
+		public void setPkCharAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Date getPkDateAttribute()
+		{
+			return zGetDate(_storage, 12);
+		}
+
+		public void setPkDateAttribute(java.util.Date value)
+		{
+			zSetDate(_storage, value, 12);
+		}
+
+		public void setPkDateAttributeNull()
+		{
+			this.setPkDateAttribute(null);
+		}
+
+		public double getPkDoubleAttribute()
+		{
+			return zGetDouble(_storage, 20);
+		}
+
+		public void setPkDoubleAttribute(double value)
+		{
+			zSetDouble(_storage, value, 20, -1, -1);
+		}
+
+		public void setPkDoubleAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public float getPkFloatAttribute()
+		{
+			return zGetFloat(_storage, 28);
+		}
+
+		public void setPkFloatAttribute(float value)
+		{
+			zSetFloat(_storage, value, 28, -1, -1);
+		}
+
+		public void setPkFloatAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getPkIntAttribute()
+		{
+			return zGetInteger(_storage, 32);
+		}
+
+		public void setPkIntAttribute(int value)
+		{
+			zSetInteger(_storage, value, 32, -1, -1);
+		}
+
+		public void setPkIntAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getPkLongAttribute()
+		{
+			return zGetLong(_storage, 36);
+		}
+
+		public void setPkLongAttribute(long value)
+		{
+			zSetLong(_storage, value, 36, -1, -1);
+		}
+
+		public void setPkLongAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public short getPkShortAttribute()
+		{
+			return zGetShort(_storage, 44);
+		}
+
+		public void setPkShortAttribute(short value)
+		{
+			zSetShort(_storage, value, 44, -1, -1);
+		}
+
+		public void setPkShortAttributeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getPkStringAttribute()
+		{
+			return zGetString(_storage, 46);
+		}
+
+		public int zGetPkStringAttributeAsInt()
+		{
+			return zGetInteger(_storage, 46);
+		}
+
+		public void setPkStringAttribute(String value)
+		{
+			zSetString(_storage, value, 46);
+		}
+
+		public void setPkStringAttributeNull()
+		{
+			this.setPkStringAttribute(null);
+		}
+
+		public Timestamp getPkTimestampAttribute()
+		{
+			return zGetTimestamp(_storage, 50);
+		}
+
+		public long zGetPkTimestampAttributeAsLong()
+		{
+			return zGetLong(_storage, 50);
+		}
+
+		public void setPkTimestampAttribute(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 50);
+		}
+
+		public void setPkTimestampAttributeNull()
+		{
+			this.setPkTimestampAttribute(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 110);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 110);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 110);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 118);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 118);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 118);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public short getShortAttribute()
+		{
+			return zGetShort(_storage, 126);
+		}
+
+		public void setShortAttribute(short value)
+		{
+			zSetShort(_storage, value, 126, 4, 6);
+		}
+
+		public String getStringAttribute()
+		{
+			return zGetString(_storage, 128);
+		}
+
+		public int zGetStringAttributeAsInt()
+		{
+			return zGetInteger(_storage, 128);
+		}
+
+		public void setStringAttribute(String value)
+		{
+			zSetString(_storage, value, 128);
+		}
+
+		public void setStringAttributeNull()
+		{
+			this.setStringAttribute(null);
+		}
+
+		public Timestamp getTimestampAttribute()
+		{
+			return zGetTimestamp(_storage, 132);
+		}
+
+		public long zGetTimestampAttributeAsLong()
+		{
+			return zGetLong(_storage, 132);
+		}
+
+		public void setTimestampAttribute(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 132);
+		}
+
+		public void setTimestampAttributeNull()
+		{
+			this.setTimestampAttribute(null);
+		}
+
+		public void setBooleanAttributeNull()
+		{
+			zSetBooleanNull(_storage, 58);
+		}
+
+		public void setByteAttributeNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public void setCharAttributeNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public void setDoubleAttributeNull()
+		{
+			zSetNull(_storage, 4, 2);
+		}
+
+		public void setFloatAttributeNull()
+		{
+			zSetNull(_storage, 4, 3);
+		}
+
+		public void setIntAttributeNull()
+		{
+			zSetNull(_storage, 4, 4);
+		}
+
+		public void setLongAttributeNull()
+		{
+			zSetNull(_storage, 4, 5);
+		}
+
+		public void setShortAttributeNull()
+		{
+			zSetNull(_storage, 4, 6);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(PureType2DatedTxnTypesADataOnHeap copy, boolean withRelationships)
+		{
+			copy.booleanAttribute = this.isBooleanAttribute();
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.byteAttribute = this.getByteAttribute();
+			copy.charAttribute = this.getCharAttribute();
+			copy.dateAttribute = this.getDateAttribute();
+			copy.doubleAttribute = this.getDoubleAttribute();
+			copy.floatAttribute = this.getFloatAttribute();
+			copy.intAttribute = this.getIntAttribute();
+			copy.longAttribute = this.getLongAttribute();
+			copy.pkBooleanAttribute = this.isPkBooleanAttribute();
+			copy.pkByteAttribute = this.getPkByteAttribute();
+			copy.pkCharAttribute = this.getPkCharAttribute();
+			copy.pkDateAttribute = this.getPkDateAttribute();
+			copy.pkDoubleAttribute = this.getPkDoubleAttribute();
+			copy.pkFloatAttribute = this.getPkFloatAttribute();
+			copy.pkIntAttribute = this.getPkIntAttribute();
+			copy.pkLongAttribute = this.getPkLongAttribute();
+			copy.pkShortAttribute = this.getPkShortAttribute();
+			copy.pkStringAttribute = this.getPkStringAttribute();
+			copy.pkTimestampAttribute = this.getPkTimestampAttribute();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.shortAttribute = this.getShortAttribute();
+			copy.stringAttribute = this.getStringAttribute();
+			copy.timestampAttribute = this.getTimestampAttribute();
+			if (isBooleanAttributeNull())
+			{
+				copy.setBooleanAttributeNull();
+			}
+
+			if (isByteAttributeNull())
+			{
+				copy.setByteAttributeNull();
+			}
+
+			if (isCharAttributeNull())
+			{
+				copy.setCharAttributeNull();
+			}
+
+			if (isDoubleAttributeNull())
+			{
+				copy.setDoubleAttributeNull();
+			}
+
+			if (isFloatAttributeNull())
+			{
+				copy.setFloatAttributeNull();
+			}
+
+			if (isIntAttributeNull())
+			{
+				copy.setIntAttributeNull();
+			}
+
+			if (isLongAttributeNull())
+			{
+				copy.setLongAttributeNull();
+			}
+
+			if (isShortAttributeNull())
+			{
+				copy.setShortAttributeNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetBoolean(_storage, in.readBoolean(), 58);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 59);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 67);
+			zSetByte(_storage, in.readByte(), 75, 4, 0, (isNullBits0 & 1 << 1) != 0 );
+			zSetChar(_storage, in.readChar(), 76, 4, 1, (isNullBits0 & 1 << 2) != 0 );
+			zSetDate(_storage, (Date)in.readObject(), 78);
+			zSetDouble(_storage, in.readDouble(), 86, 4, 2, (isNullBits0 & 1 << 3) != 0 );
+			zSetFloat(_storage, in.readFloat(), 94, 4, 3, (isNullBits0 & 1 << 4) != 0 );
+			zSetInteger(_storage, in.readInt(), 98, 4, 4, (isNullBits0 & 1 << 5) != 0 );
+			zSetLong(_storage, in.readLong(), 102, 4, 5, (isNullBits0 & 1 << 6) != 0 );
+			zSetBoolean(_storage, in.readBoolean(), 8);
+			zSetByte(_storage, in.readByte(), 9, -1, -1, false);
+			zSetChar(_storage, in.readChar(), 10, -1, -1, false);
+			zSetDate(_storage, (Date)in.readObject(), 12);
+			zSetDouble(_storage, in.readDouble(), 20, -1, -1, false);
+			zSetFloat(_storage, in.readFloat(), 28, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 32, -1, -1, false);
+			zSetLong(_storage, in.readLong(), 36, -1, -1, false);
+			zSetShort(_storage, in.readShort(), 44, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 46);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 50);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 110);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 118);
+			zSetShort(_storage, in.readShort(), 126, 4, 6, (isNullBits0 & 1 << 7) != 0 );
+			zSetString(_storage, (String)in.readObject(), 128);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 132);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof PureType2DatedTxnTypesADataOffHeap)
+			{
+				final PureType2DatedTxnTypesADataOffHeap otherData = (PureType2DatedTxnTypesADataOffHeap) other;
+				if (this.zGetByte(_storage, 8) != otherData.zGetByte(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetByte(_storage, 9) != otherData.zGetByte(_storage, 9))
+				{
+					return false;
+				}
+
+				if (this.zGetShort(_storage, 10) != otherData.zGetShort(_storage, 10))
+				{
+					return false;
+				}
+
+				if (this.zGetLong(_storage, 12) != otherData.zGetLong(_storage, 12))
+				{
+					return false;
+				}
+
+				if (this.zGetLong(_storage, 20) != otherData.zGetLong(_storage, 20))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 28) != otherData.zGetInteger(_storage, 28))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 32) != otherData.zGetInteger(_storage, 32))
+				{
+					return false;
+				}
+
+				if (this.zGetLong(_storage, 36) != otherData.zGetLong(_storage, 36))
+				{
+					return false;
+				}
+
+				if (this.zGetShort(_storage, 44) != otherData.zGetShort(_storage, 44))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 46) != otherData.zGetInteger(_storage, 46))
+				{
+					return false;
+				}
+
+				if (this.zGetLong(_storage, 50) != otherData.zGetLong(_storage, 50))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final PureType2DatedTxnTypesAData otherData = (PureType2DatedTxnTypesAData) other;
+			if (isPkBooleanAttribute() != otherData.isPkBooleanAttribute())
+			{
+				return false;
+			}
+
+			if (getPkByteAttribute() != otherData.getPkByteAttribute())
+			{
+				return false;
+			}
+
+			if (getPkCharAttribute() != otherData.getPkCharAttribute())
+			{
+				return false;
+			}
+
+			if (!isPkDateAttributeNull() ? !getPkDateAttribute().equals(otherData.getPkDateAttribute()) : !otherData.isPkDateAttributeNull())
+			{
+				return false;
+			}
+
+			if (getPkDoubleAttribute() != otherData.getPkDoubleAttribute())
+			{
+				return false;
+			}
+
+			if (getPkFloatAttribute() != otherData.getPkFloatAttribute())
+			{
+				return false;
+			}
+
+			if (getPkIntAttribute() != otherData.getPkIntAttribute())
+			{
+				return false;
+			}
+
+			if (getPkLongAttribute() != otherData.getPkLongAttribute())
+			{
+				return false;
+			}
+
+			if (getPkShortAttribute() != otherData.getPkShortAttribute())
+			{
+				return false;
+			}
+
+			if (!isPkStringAttributeNull() ? !getPkStringAttribute().equals(otherData.getPkStringAttribute()) : !otherData.isPkStringAttributeNull())
+			{
+				return false;
+			}
+
+			if (!isPkTimestampAttributeNull() ? !getPkTimestampAttribute().equals(otherData.getPkTimestampAttribute()) : !otherData.isPkTimestampAttributeNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), PureType2DatedTxnTypesAFinder.businessDate().getInfinityDate());
+			out.writeBoolean(this.isPkBooleanAttribute());
+			out.writeByte(this.getPkByteAttribute());
+			out.writeChar(this.getPkCharAttribute());
+			MithraTimestamp.writeTimezoneInsensitiveDate(out, this.getPkDateAttribute());
+			out.writeDouble(this.getPkDoubleAttribute());
+			out.writeFloat(this.getPkFloatAttribute());
+			out.writeInt(this.getPkIntAttribute());
+			out.writeLong(this.getPkLongAttribute());
+			out.writeShort(this.getPkShortAttribute());
+			out.writeObject(this.getPkStringAttribute());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetPkTimestampAttributeAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), PureType2DatedTxnTypesAFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 59);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 67);
+			zSetBoolean(_storage, in.readBoolean(), 8);
+			zSetByte(_storage, in.readByte(), 9, -1, -1, false);
+			zSetChar(_storage, in.readChar(), 10, -1, -1, false);
+			zSetDate(_storage, (Date)in.readObject(), 12);
+			zSetDouble(_storage, in.readDouble(), 20, -1, -1, false);
+			zSetFloat(_storage, in.readFloat(), 28, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 32, -1, -1, false);
+			zSetLong(_storage, in.readLong(), 36, -1, -1, false);
+			zSetShort(_storage, in.readShort(), 44, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 46);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 50);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 110);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 118);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final PureType2DatedTxnTypesAData pureType2DatedTxnTypesAData = (PureType2DatedTxnTypesAData) newData;
+			this.setBooleanAttribute(pureType2DatedTxnTypesAData.isBooleanAttribute());
+			if (pureType2DatedTxnTypesAData.isBooleanAttributeNull()) this.setBooleanAttributeNull();
+			this.setBusinessDateFrom(pureType2DatedTxnTypesAData.getBusinessDateFrom());
+			this.setBusinessDateTo(pureType2DatedTxnTypesAData.getBusinessDateTo());
+			this.setByteAttribute(pureType2DatedTxnTypesAData.getByteAttribute());
+			if (pureType2DatedTxnTypesAData.isByteAttributeNull()) this.setByteAttributeNull();
+			this.setCharAttribute(pureType2DatedTxnTypesAData.getCharAttribute());
+			if (pureType2DatedTxnTypesAData.isCharAttributeNull()) this.setCharAttributeNull();
+			this.setDateAttribute(pureType2DatedTxnTypesAData.getDateAttribute());
+			this.setDoubleAttribute(pureType2DatedTxnTypesAData.getDoubleAttribute());
+			if (pureType2DatedTxnTypesAData.isDoubleAttributeNull()) this.setDoubleAttributeNull();
+			this.setFloatAttribute(pureType2DatedTxnTypesAData.getFloatAttribute());
+			if (pureType2DatedTxnTypesAData.isFloatAttributeNull()) this.setFloatAttributeNull();
+			this.setIntAttribute(pureType2DatedTxnTypesAData.getIntAttribute());
+			if (pureType2DatedTxnTypesAData.isIntAttributeNull()) this.setIntAttributeNull();
+			this.setLongAttribute(pureType2DatedTxnTypesAData.getLongAttribute());
+			if (pureType2DatedTxnTypesAData.isLongAttributeNull()) this.setLongAttributeNull();
+			this.setProcessingDateFrom(pureType2DatedTxnTypesAData.getProcessingDateFrom());
+			this.setProcessingDateTo(pureType2DatedTxnTypesAData.getProcessingDateTo());
+			this.setShortAttribute(pureType2DatedTxnTypesAData.getShortAttribute());
+			if (pureType2DatedTxnTypesAData.isShortAttributeNull()) this.setShortAttributeNull();
+			this.setStringAttribute(pureType2DatedTxnTypesAData.getStringAttribute());
+			this.setTimestampAttribute(pureType2DatedTxnTypesAData.getTimestampAttribute());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final PureType2DatedTxnTypesAData other = (PureType2DatedTxnTypesAData) newData;
+			if ( isBooleanAttributeNull() != other.isBooleanAttributeNull() || isBooleanAttribute() != other.isBooleanAttribute())
+			{
+				return true;
+			}
+
+			if ( isByteAttributeNull() != other.isByteAttributeNull() || getByteAttribute() != other.getByteAttribute())
+			{
+				return true;
+			}
+
+			if ( isCharAttributeNull() != other.isCharAttributeNull() || getCharAttribute() != other.getCharAttribute())
+			{
+				return true;
+			}
+
+			if (!isDateAttributeNull() ? !getDateAttribute().equals(other.getDateAttribute()) : !other.isDateAttributeNull())
+			{
+				return true;
+			}
+
+			if ( isDoubleAttributeNull() != other.isDoubleAttributeNull() || Math.abs(getDoubleAttribute() - other.getDoubleAttribute()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isFloatAttributeNull() != other.isFloatAttributeNull() || Math.abs(getFloatAttribute() - other.getFloatAttribute()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isIntAttributeNull() != other.isIntAttributeNull() || getIntAttribute() != other.getIntAttribute())
+			{
+				return true;
+			}
+
+			if ( isLongAttributeNull() != other.isLongAttributeNull() || getLongAttribute() != other.getLongAttribute())
+			{
+				return true;
+			}
+
+			if ( isShortAttributeNull() != other.isShortAttributeNull() || getShortAttribute() != other.getShortAttribute())
+			{
+				return true;
+			}
+
+			if (!isStringAttributeNull() ? !getStringAttribute().equals(other.getStringAttribute()) : !other.isStringAttributeNull())
+			{
+				return true;
+			}
+
+			if (!isTimestampAttributeNull() ? !getTimestampAttribute().equals(other.getTimestampAttribute()) : !other.isTimestampAttributeNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			PureType2DatedTxnTypesADataOnHeap copy = new PureType2DatedTxnTypesADataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			PureType2DatedTxnTypesADataOnHeap copy = new PureType2DatedTxnTypesADataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "pkBooleanAttribute: "+(""+isPkBooleanAttribute())+ " / ";
+			result += "pkByteAttribute: "+(""+getPkByteAttribute())+ " / ";
+			result += "pkCharAttribute: "+(""+getPkCharAttribute())+ " / ";
+			result += "pkDateAttribute: "+PrintablePreparedStatement.dateFormat.print(getPkDateAttribute().getTime())+ " / ";
+			result += "pkDoubleAttribute: "+(""+getPkDoubleAttribute())+ " / ";
+			result += "pkFloatAttribute: "+(""+getPkFloatAttribute())+ " / ";
+			result += "pkIntAttribute: "+(""+getPkIntAttribute())+ " / ";
+			result += "pkLongAttribute: "+(""+getPkLongAttribute())+ " / ";
+			result += "pkShortAttribute: "+(""+getPkShortAttribute())+ " / ";
+			result += "pkStringAttribute: "+"'"+getPkStringAttribute()+"'"+ " / ";
+			result += "pkTimestampAttribute: "+(isPkTimestampAttributeNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getPkTimestampAttribute().getTime()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			PureType2DatedTxnTypesAData otherData = (PureType2DatedTxnTypesAData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			PureType2DatedTxnTypesAData otherData = (PureType2DatedTxnTypesAData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedTxnTypesAData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return PureType2DatedTxnTypesAFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return PureType2DatedTxnTypesAFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedTxnTypesAData";
+		}
+	}
+}
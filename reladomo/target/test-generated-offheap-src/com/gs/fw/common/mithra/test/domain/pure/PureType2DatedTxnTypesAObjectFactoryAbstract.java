@@ -0,0 +1,189 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.BiTemporalTransactionalDataContainer;
+import com.gs.fw.common.mithra.behavior.TemporalContainer;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.portal.MithraAbstractPureDatedObjectFactory;
+import com.gs.fw.common.mithra.attribute.SingleColumnAttribute;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/ObjectFactoryAbstract.jsp
+public abstract class PureType2DatedTxnTypesAObjectFactoryAbstract extends MithraAbstractPureDatedObjectFactory implements MithraDatedTransactionalObjectFactory
+{
+	protected LoadOperationProvider loadOperationProvider = new DefaultLoadOperationProvider();
+	public List< Operation > getOperationsForFullCacheLoad()
+	{
+		return this.loadOperationProvider.getOperationsForFullCacheLoad(this.getFinder());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureType2DatedTxnTypesAFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return PureType2DatedTxnTypesAFinder.getFinderInstance();
+	}
+
+	public static PureType2DatedTxnTypesAData allocateOnHeapData()
+	{
+		return new PureType2DatedTxnTypesAData.PureType2DatedTxnTypesADataOnHeap();
+	}
+
+	public static PureType2DatedTxnTypesAData allocateOffHeapData()
+	{
+		return new PureType2DatedTxnTypesAData.PureType2DatedTxnTypesADataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new PureType2DatedTxnTypesAData.PureType2DatedTxnTypesADataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedTxnTypesAFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedTxnTypesAFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		PureType2DatedTxnTypesAData data = new PureType2DatedTxnTypesAData.PureType2DatedTxnTypesADataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedTxnTypesAFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), PureType2DatedTxnTypesAFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureType2DatedTxnTypesAData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedTxnTypesA", PureType2DatedTxnTypesAFinder.getFinderInstance(), config.createOffHeapMemoryAllocator("PureType2DatedTxnTypesA"));
+			PureType2DatedTxnTypesAData.PureType2DatedTxnTypesADataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(PureType2DatedTxnTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedTxnTypesAFinder.getAsOfAttributes(), this, PureType2DatedTxnTypesAFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(PureType2DatedTxnTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedTxnTypesAFinder.getAsOfAttributes(), this, PureType2DatedTxnTypesAFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(PureType2DatedTxnTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedTxnTypesAFinder.getAsOfAttributes(), this, PureType2DatedTxnTypesAFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(PureType2DatedTxnTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedTxnTypesAFinder.getAsOfAttributes(), this, PureType2DatedTxnTypesAFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(PureType2DatedTxnTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedTxnTypesAFinder.getAsOfAttributes(), this, PureType2DatedTxnTypesAFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else if (config.isOffHeapPartialCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(PureType2DatedTxnTypesAData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.pure.PureType2DatedTxnTypesA", PureType2DatedTxnTypesAFinder.getFinderInstance(), config.getOffHeapPartialCacheSize());
+			PureType2DatedTxnTypesAData.PureType2DatedTxnTypesADataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapPartialDatedCache(PureType2DatedTxnTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedTxnTypesAFinder.getAsOfAttributes(), this, PureType2DatedTxnTypesAFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive(), dataStorage);
+		}
+		else
+		{
+			result = new PartialDatedCache(PureType2DatedTxnTypesAFinder.getPrimaryKeyAttributes(), PureType2DatedTxnTypesAFinder.getAsOfAttributes(), this, PureType2DatedTxnTypesAFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			PureType2DatedTxnTypesAFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			PureType2DatedTxnTypesAFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			PureType2DatedTxnTypesA.zConfigFullTx();
+		}
+		else
+		{
+			PureType2DatedTxnTypesA.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		PureType2DatedTxnTypesA newObject = new PureType2DatedTxnTypesA(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromPureType2DatedTxnTypesAData((PureType2DatedTxnTypesAData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new BiTemporalTransactionalDataContainer(tx.getPerPortalTemporalContainer(PureType2DatedTxnTypesAFinder.getMithraObjectPortal(),
+			PureType2DatedTxnTypesAFinder.processingDate())
+		,PureType2DatedTxnTypesAFinder.businessDate());
+	}
+}
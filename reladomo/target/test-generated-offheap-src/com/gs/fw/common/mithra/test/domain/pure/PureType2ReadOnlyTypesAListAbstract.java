@@ -0,0 +1,108 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PureType2ReadOnlyTypesAListAbstract extends DelegatingList<PureType2ReadOnlyTypesA> implements MithraList<PureType2ReadOnlyTypesA>
+{
+	public PureType2ReadOnlyTypesAListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PureType2ReadOnlyTypesAListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PureType2ReadOnlyTypesAListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PureType2ReadOnlyTypesAListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public PureType2ReadOnlyTypesA[] elements()
+	{
+		PureType2ReadOnlyTypesA[] result = new PureType2ReadOnlyTypesA[size()];
+		this.zGetDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PureType2ReadOnlyTypesAList intersection(PureType2ReadOnlyTypesAList another)
+	{
+		return (PureType2ReadOnlyTypesAList)super.intersection(another);
+	}
+
+	public PureType2ReadOnlyTypesA getPureType2ReadOnlyTypesAAt(int index)
+	{
+		return (PureType2ReadOnlyTypesA)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureType2ReadOnlyTypesAFinder.getMithraObjectPortal();
+	}
+
+	public PureType2ReadOnlyTypesAList getNonPersistentCopy()
+	{
+		PureType2ReadOnlyTypesAList result = new PureType2ReadOnlyTypesAList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PureType2ReadOnlyTypesAList asAdhoc()
+	{
+		return (PureType2ReadOnlyTypesAList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements Eclipse Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public org.eclipse.collections.api.list.MutableList<PureType2ReadOnlyTypesA> asEcList()
+	{
+		return org.eclipse.collections.impl.list.mutable.ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,117 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/superclass/Abstract.jsp
+public abstract class PureType2TxnTypesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	//add getters for all attributes
+	public abstract boolean isPkBooleanAttributeNull();
+	public abstract boolean isPkBooleanAttribute();
+	public abstract void setPkBooleanAttribute(boolean pkBooleanAttribute);
+	public abstract boolean isPkByteAttributeNull();
+	public abstract byte getPkByteAttribute();
+	public abstract void setPkByteAttribute(byte pkByteAttribute);
+	public abstract boolean isPkCharAttributeNull();
+	public abstract char getPkCharAttribute();
+	public abstract void setPkCharAttribute(char pkCharAttribute);
+	public abstract boolean isPkDateAttributeNull();
+	public abstract Date getPkDateAttribute();
+	public abstract void setPkDateAttribute(Date pkDateAttribute);
+	public abstract boolean isPkDoubleAttributeNull();
+	public abstract double getPkDoubleAttribute();
+	public abstract void setPkDoubleAttribute(double pkDoubleAttribute);
+	public abstract boolean isPkFloatAttributeNull();
+	public abstract float getPkFloatAttribute();
+	public abstract void setPkFloatAttribute(float pkFloatAttribute);
+	public abstract boolean isPkIntAttributeNull();
+	public abstract int getPkIntAttribute();
+	public abstract void setPkIntAttribute(int pkIntAttribute);
+	public abstract boolean isPkLongAttributeNull();
+	public abstract long getPkLongAttribute();
+	public abstract void setPkLongAttribute(long pkLongAttribute);
+	public abstract boolean isPkShortAttributeNull();
+	public abstract short getPkShortAttribute();
+	public abstract void setPkShortAttribute(short pkShortAttribute);
+	public abstract boolean isPkStringAttributeNull();
+	public abstract String getPkStringAttribute();
+	public abstract void setPkStringAttribute(String pkStringAttribute);
+	public abstract boolean isPkTimestampAttributeNull();
+	public abstract Timestamp getPkTimestampAttribute();
+	public abstract void setPkTimestampAttribute(Timestamp pkTimestampAttribute);
+	public abstract boolean isBooleanAttributeNull();
+	public abstract boolean isBooleanAttribute();
+	public abstract void setBooleanAttribute(boolean booleanAttribute);
+	public abstract void setBooleanAttributeNull();
+	public abstract boolean isByteAttributeNull();
+	public abstract byte getByteAttribute();
+	public abstract void setByteAttribute(byte byteAttribute);
+	public abstract void setByteAttributeNull();
+	public abstract boolean isCharAttributeNull();
+	public abstract char getCharAttribute();
+	public abstract void setCharAttribute(char charAttribute);
+	public abstract void setCharAttributeNull();
+	public abstract boolean isDateAttributeNull();
+	public abstract Date getDateAttribute();
+	public abstract void setDateAttribute(Date dateAttribute);
+	public abstract boolean isDoubleAttributeNull();
+	public abstract double getDoubleAttribute();
+	public abstract void setDoubleAttribute(double doubleAttribute);
+	public abstract void setDoubleAttributeNull();
+	public abstract boolean isFloatAttributeNull();
+	public abstract float getFloatAttribute();
+	public abstract void setFloatAttribute(float floatAttribute);
+	public abstract void setFloatAttributeNull();
+	public abstract boolean isIntAttributeNull();
+	public abstract int getIntAttribute();
+	public abstract void setIntAttribute(int intAttribute);
+	public abstract void setIntAttributeNull();
+	public abstract boolean isLongAttributeNull();
+	public abstract long getLongAttribute();
+	public abstract void setLongAttribute(long longAttribute);
+	public abstract void setLongAttributeNull();
+	public abstract boolean isShortAttributeNull();
+	public abstract short getShortAttribute();
+	public abstract void setShortAttribute(short shortAttribute);
+	public abstract void setShortAttributeNull();
+	public abstract boolean isStringAttributeNull();
+	public abstract String getStringAttribute();
+	public abstract void setStringAttribute(String stringAttribute);
+	public abstract boolean isTimestampAttributeNull();
+	public abstract Timestamp getTimestampAttribute();
+	public abstract void setTimestampAttribute(Timestamp timestampAttribute);
+	public PureType2TxnTypes getDetachedCopy() throws MithraBusinessException
+	{
+		return (PureType2TxnTypes) super.getDetachedCopy();
+	}
+
+	public PureType2TxnTypes getNonPersistentCopy() throws MithraBusinessException
+	{
+		return (PureType2TxnTypes) super.getNonPersistentCopy();
+	}
+}
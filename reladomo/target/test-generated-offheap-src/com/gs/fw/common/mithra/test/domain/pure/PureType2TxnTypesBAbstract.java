@@ -0,0 +1,670 @@
+package com.gs.fw.common.mithra.test.domain.pure;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 18.1.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class PureType2TxnTypesBAbstract extends com.gs.fw.common.mithra.test.domain.pure.PureType2TxnTypes implements MithraTransactionalObject, Serializable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(PureType2TxnTypesB.class.getName());
+	private static final List pkExtractors = Arrays.asList(PureType2TxnTypesBFinder.getPrimaryKeyAttributes());
+	public PureType2TxnTypesBAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public PureType2TxnTypesB getDetachedCopy() throws MithraBusinessException
+	{
+		return (PureType2TxnTypesB) super.getDetachedCopy();
+	}
+
+	public PureType2TxnTypesB getNonPersistentCopy() throws MithraBusinessException
+	{
+		PureType2TxnTypesB result = (PureType2TxnTypesB) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MithraDataObject data = behavior.getCurrentDataForWrite(this);
+		if (this.zGetCache().getAsOne(data, pkExtractors) != null)
+		{
+			throw new MithraUniqueIndexViolationException("Cannot insert duplicate pure object "+data.zGetPrintablePrimaryKey());
+		}
+
+		behavior.insert(this);
+	}
+
+	public PureType2TxnTypesB copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (PureType2TxnTypesB) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public PureType2TxnTypesB zFindOriginal()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.currentData;
+		Operation op;
+		op = PureType2TxnTypesBFinder.pkBooleanAttribute().eq(data.isPkBooleanAttribute());
+		op = op.and(PureType2TxnTypesBFinder.pkByteAttribute().eq(data.getPkByteAttribute()));
+		op = op.and(PureType2TxnTypesBFinder.pkCharAttribute().eq(data.getPkCharAttribute()));
+		op = op.and(PureType2TxnTypesBFinder.pkDateAttribute().eq(data.getPkDateAttribute()));
+		op = op.and(PureType2TxnTypesBFinder.pkDoubleAttribute().eq(data.getPkDoubleAttribute()));
+		op = op.and(PureType2TxnTypesBFinder.pkFloatAttribute().eq(data.getPkFloatAttribute()));
+		op = op.and(PureType2TxnTypesBFinder.pkIntAttribute().eq(data.getPkIntAttribute()));
+		op = op.and(PureType2TxnTypesBFinder.pkLongAttribute().eq(data.getPkLongAttribute()));
+		op = op.and(PureType2TxnTypesBFinder.pkShortAttribute().eq(data.getPkShortAttribute()));
+		op = op.and(PureType2TxnTypesBFinder.pkStringAttribute().eq(data.getPkStringAttribute()));
+		op = op.and(PureType2TxnTypesBFinder.pkTimestampAttribute().eq(data.getPkTimestampAttribute()));
+		return PureType2TxnTypesBFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PureType2TxnTypesBData();
+	}
+
+	protected void zSetFromPureType2TxnTypesBData( PureType2TxnTypesBData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromPureType2TxnTypesBData( PureType2TxnTypesBData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isBooleanAttributeNull();
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		if (data.isBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("booleanAttribute", data);
+		return data.isBooleanAttribute();
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(PureType2TxnTypesBFinder.booleanAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isByteAttributeNull();
+	}
+
+	public byte getByteAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		if (data.isByteAttributeNull()) MithraNullPrimitiveException.throwNew("byteAttribute", data);
+		return data.getByteAttribute();
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(PureType2TxnTypesBFinder.byteAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isCharAttributeNull();
+	}
+
+	public char getCharAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		if (data.isCharAttributeNull()) MithraNullPrimitiveException.throwNew("charAttribute", data);
+		return data.getCharAttribute();
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(PureType2TxnTypesBFinder.charAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isDateAttributeNull();
+	}
+
+	public Date getDateAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getDateAttribute();
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(PureType2TxnTypesBFinder.dateAttribute(), newValue, false, false );
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isDoubleAttributeNull();
+	}
+
+	public double getDoubleAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		if (data.isDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("doubleAttribute", data);
+		return data.getDoubleAttribute();
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(PureType2TxnTypesBFinder.doubleAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isFloatAttributeNull();
+	}
+
+	public float getFloatAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		if (data.isFloatAttributeNull()) MithraNullPrimitiveException.throwNew("floatAttribute", data);
+		return data.getFloatAttribute();
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(PureType2TxnTypesBFinder.floatAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isIntAttributeNull();
+	}
+
+	public int getIntAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		if (data.isIntAttributeNull()) MithraNullPrimitiveException.throwNew("intAttribute", data);
+		return data.getIntAttribute();
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(PureType2TxnTypesBFinder.intAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isLongAttributeNull();
+	}
+
+	public long getLongAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		if (data.isLongAttributeNull()) MithraNullPrimitiveException.throwNew("longAttribute", data);
+		return data.getLongAttribute();
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(PureType2TxnTypesBFinder.longAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isPkBooleanAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkBooleanAttributeNull();
+	}
+
+	public boolean isPkBooleanAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.isPkBooleanAttribute();
+	}
+
+	public void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(PureType2TxnTypesBFinder.pkBooleanAttribute(), newValue, true, false ,false);
+	}
+
+	public boolean isPkByteAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkByteAttributeNull();
+	}
+
+	public byte getPkByteAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkByteAttribute();
+	}
+
+	public void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(PureType2TxnTypesBFinder.pkByteAttribute(), newValue, true, false ,false);
+	}
+
+	public boolean isPkCharAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkCharAttributeNull();
+	}
+
+	public char getPkCharAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkCharAttribute();
+	}
+
+	public void setPkCharAttribute(char newValue)
+	{
+		zSetChar(PureType2TxnTypesBFinder.pkCharAttribute(), newValue, true, false ,false);
+	}
+
+	public boolean isPkDateAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkDateAttributeNull();
+	}
+
+	public Date getPkDateAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkDateAttribute();
+	}
+
+	public void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(PureType2TxnTypesBFinder.pkDateAttribute(), newValue, true, false );
+	}
+
+	public boolean isPkDoubleAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkDoubleAttributeNull();
+	}
+
+	public double getPkDoubleAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkDoubleAttribute();
+	}
+
+	public void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(PureType2TxnTypesBFinder.pkDoubleAttribute(), newValue, true, false ,false);
+	}
+
+	public boolean isPkFloatAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkFloatAttributeNull();
+	}
+
+	public float getPkFloatAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkFloatAttribute();
+	}
+
+	public void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(PureType2TxnTypesBFinder.pkFloatAttribute(), newValue, true, false ,false);
+	}
+
+	public boolean isPkIntAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkIntAttributeNull();
+	}
+
+	public int getPkIntAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkIntAttribute();
+	}
+
+	public void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(PureType2TxnTypesBFinder.pkIntAttribute(), newValue, true, false ,false);
+	}
+
+	public boolean isPkLongAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkLongAttributeNull();
+	}
+
+	public long getPkLongAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkLongAttribute();
+	}
+
+	public void setPkLongAttribute(long newValue)
+	{
+		zSetLong(PureType2TxnTypesBFinder.pkLongAttribute(), newValue, true, false ,false);
+	}
+
+	public boolean isPkShortAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkShortAttributeNull();
+	}
+
+	public short getPkShortAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkShortAttribute();
+	}
+
+	public void setPkShortAttribute(short newValue)
+	{
+		zSetShort(PureType2TxnTypesBFinder.pkShortAttribute(), newValue, true, false ,false);
+	}
+
+	public boolean isPkStringAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkStringAttributeNull();
+	}
+
+	public String getPkStringAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkStringAttribute();
+	}
+
+	public void setPkStringAttribute(String newValue)
+	{
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(PureType2TxnTypesBFinder.pkStringAttribute(), newValue, true, false );
+	}
+
+	public boolean isPkTimestampAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isPkTimestampAttributeNull();
+	}
+
+	public Timestamp getPkTimestampAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getPkTimestampAttribute();
+	}
+
+	public void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(PureType2TxnTypesBFinder.pkTimestampAttribute(), newValue, true, false );
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isShortAttributeNull();
+	}
+
+	public short getShortAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		if (data.isShortAttributeNull()) MithraNullPrimitiveException.throwNew("shortAttribute", data);
+		return data.getShortAttribute();
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(PureType2TxnTypesBFinder.shortAttribute(), newValue, false, false ,true);
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isStringAttributeNull();
+	}
+
+	public String getStringAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getStringAttribute();
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'stringAttribute' cannot exceed maximum length of 10: " + newValue);
+		zSetString(PureType2TxnTypesBFinder.stringAttribute(), newValue, false, false );
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return ((PureType2TxnTypesBData) this.zSynchronizedGetData()).isTimestampAttributeNull();
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		PureType2TxnTypesBData data = (PureType2TxnTypesBData) this.zSynchronizedGetData();
+		return data.getTimestampAttribute();
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(PureType2TxnTypesBFinder.timestampAttribute(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, PureType2TxnTypesBFinder.booleanAttribute(), false);
+		zNullify(behavior, data, PureType2TxnTypesBFinder.byteAttribute(), false);
+		zNullify(behavior, data, PureType2TxnTypesBFinder.charAttribute(), false);
+		zNullify(behavior, data, PureType2TxnTypesBFinder.doubleAttribute(), false);
+		zNullify(behavior, data, PureType2TxnTypesBFinder.floatAttribute(), false);
+		zNullify(behavior, data, PureType2TxnTypesBFinder.intAttribute(), false);
+		zNullify(behavior, data, PureType2TxnTypesBFinder.longAttribute(), false);
+		zNullify(behavior, data, PureType2TxnTypesBFinder.shortAttribute(), false);
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zNullify(PureType2TxnTypesBFinder.booleanAttribute(), false);
+	}
+
+	public void setByteAttributeNull()
+	{
+		zNullify(PureType2TxnTypesBFinder.byteAttribute(), false);
+	}
+
+	public void setCharAttributeNull()
+	{
+		zNullify(PureType2TxnTypesBFinder.charAttribute(), false);
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zNullify(PureType2TxnTypesBFinder.doubleAttribute(), false);
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zNullify(PureType2TxnTypesBFinder.floatAttribute(), false);
+	}
+
+	public void setIntAttributeNull()
+	{
+		zNullify(PureType2TxnTypesBFinder.intAttribute(), false);
+	}
+
+	public void setLongAttributeNull()
+	{
+		zNullify(PureType2TxnTypesBFinder.longAttribute(), false);
+	}
+
+	public void setShortAttributeNull()
+	{
+		zNullify(PureType2TxnTypesBFinder.shortAttribute(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PureType2TxnTypesBData _newData = (PureType2TxnTypesBData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		PureType2TxnTypesBData _newData = (PureType2TxnTypesBData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PureType2TxnTypesBData _newData = (PureType2TxnTypesBData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public PureType2TxnTypesB zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PureType2TxnTypesB original = (PureType2TxnTypesB) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return PureType2TxnTypesBFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PureType2TxnTypesBFinder.getMithraObjectPortal();
+	}
+
+	public PureType2TxnTypesB getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, PureType2TxnTypesBFinder.booleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, PureType2TxnTypesBFinder.byteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, PureType2TxnTypesBFinder.charAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, PureType2TxnTypesBFinder.dateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, PureType2TxnTypesBFinder.doubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, PureType2TxnTypesBFinder.floatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PureType2TxnTypesBFinder.intAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, PureType2TxnTypesBFinder.longAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, PureType2TxnTypesBFinder.shortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, PureType2TxnTypesBFinder.stringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, PureType2TxnTypesBFinder.timestampAttribute(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, PureType2TxnTypesBFinder.pkBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, PureType2TxnTypesBFinder.pkByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, PureType2TxnTypesBFinder.pkCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, PureType2TxnTypesBFinder.pkDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, PureType2TxnTypesBFinder.pkDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, PureType2TxnTypesBFinder.pkFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PureType2TxnTypesBFinder.pkIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, PureType2TxnTypesBFinder.pkLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, PureType2TxnTypesBFinder.pkShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, PureType2TxnTypesBFinder.pkStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, PureType2TxnTypesBFinder.pkTimestampAttribute(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		PureType2TxnTypesBAbstract result = (PureType2TxnTypesBAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}